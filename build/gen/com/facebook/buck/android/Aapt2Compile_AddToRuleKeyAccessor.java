@@ -0,0 +1,49 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.android;
+
+public final class Aapt2Compile_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.lang.invoke.MethodHandle MEMBER_0 = getter("resDir");
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("resDir"));
+
+  @java.lang.Override
+  public java.lang.Class<?> getTargetClass() {
+    return com.facebook.buck.android.Aapt2Compile.class;
+  }
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        try {
+          return MEMBER_0.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+
+  private static java.lang.invoke.MethodHandle getter(java.lang.String name) {
+    try {
+      java.lang.reflect.Field field = com.facebook.buck.android.Aapt2Compile.class.getDeclaredField(name);
+      field.setAccessible(true);
+      return java.lang.invoke.MethodHandles.lookup()
+          .unreflectGetter(field)
+          .asType(
+              java.lang.invoke.MethodType.methodType(
+                  java.lang.Object.class, java.lang.Object.class));
+    } catch (java.lang.ReflectiveOperationException e) {
+      throw new java.lang.IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,315 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Encapsulates information about a rule that runs "aapt", for consumption by downstream rules.
+ * <p>We break this data out into a separate object to allow different implementations of aapt.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAaptOutputInfo"})
+@Immutable
+public final class AaptOutputInfo extends AbstractAaptOutputInfo {
+  private final SourcePath pathToRDotTxt;
+  private final SourcePath primaryResourcesApkPath;
+  private final SourcePath androidManifestXml;
+  private final SourcePath aaptGeneratedProguardConfigFile;
+
+  private AaptOutputInfo(
+      SourcePath pathToRDotTxt,
+      SourcePath primaryResourcesApkPath,
+      SourcePath androidManifestXml,
+      SourcePath aaptGeneratedProguardConfigFile) {
+    this.pathToRDotTxt = pathToRDotTxt;
+    this.primaryResourcesApkPath = primaryResourcesApkPath;
+    this.androidManifestXml = androidManifestXml;
+    this.aaptGeneratedProguardConfigFile = aaptGeneratedProguardConfigFile;
+  }
+
+  /**
+   * @return The value of the {@code pathToRDotTxt} attribute
+   */
+  @Override
+  public SourcePath getPathToRDotTxt() {
+    return pathToRDotTxt;
+  }
+
+  /**
+   * @return The value of the {@code primaryResourcesApkPath} attribute
+   */
+  @Override
+  public SourcePath getPrimaryResourcesApkPath() {
+    return primaryResourcesApkPath;
+  }
+
+  /**
+   * @return The value of the {@code androidManifestXml} attribute
+   */
+  @Override
+  public SourcePath getAndroidManifestXml() {
+    return androidManifestXml;
+  }
+
+  /**
+   * @return The value of the {@code aaptGeneratedProguardConfigFile} attribute
+   */
+  @Override
+  public SourcePath getAaptGeneratedProguardConfigFile() {
+    return aaptGeneratedProguardConfigFile;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAaptOutputInfo#getPathToRDotTxt() pathToRDotTxt} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for pathToRDotTxt
+   * @return A modified copy of the {@code this} object
+   */
+  public final AaptOutputInfo withPathToRDotTxt(SourcePath value) {
+    if (this.pathToRDotTxt == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "pathToRDotTxt");
+    return new AaptOutputInfo(
+        newValue,
+        this.primaryResourcesApkPath,
+        this.androidManifestXml,
+        this.aaptGeneratedProguardConfigFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAaptOutputInfo#getPrimaryResourcesApkPath() primaryResourcesApkPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for primaryResourcesApkPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AaptOutputInfo withPrimaryResourcesApkPath(SourcePath value) {
+    if (this.primaryResourcesApkPath == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "primaryResourcesApkPath");
+    return new AaptOutputInfo(this.pathToRDotTxt, newValue, this.androidManifestXml, this.aaptGeneratedProguardConfigFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAaptOutputInfo#getAndroidManifestXml() androidManifestXml} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for androidManifestXml
+   * @return A modified copy of the {@code this} object
+   */
+  public final AaptOutputInfo withAndroidManifestXml(SourcePath value) {
+    if (this.androidManifestXml == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "androidManifestXml");
+    return new AaptOutputInfo(
+        this.pathToRDotTxt,
+        this.primaryResourcesApkPath,
+        newValue,
+        this.aaptGeneratedProguardConfigFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAaptOutputInfo#getAaptGeneratedProguardConfigFile() aaptGeneratedProguardConfigFile} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for aaptGeneratedProguardConfigFile
+   * @return A modified copy of the {@code this} object
+   */
+  public final AaptOutputInfo withAaptGeneratedProguardConfigFile(SourcePath value) {
+    if (this.aaptGeneratedProguardConfigFile == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "aaptGeneratedProguardConfigFile");
+    return new AaptOutputInfo(this.pathToRDotTxt, this.primaryResourcesApkPath, this.androidManifestXml, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AaptOutputInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AaptOutputInfo
+        && equalTo((AaptOutputInfo) another);
+  }
+
+  private boolean equalTo(AaptOutputInfo another) {
+    return pathToRDotTxt.equals(another.pathToRDotTxt)
+        && primaryResourcesApkPath.equals(another.primaryResourcesApkPath)
+        && androidManifestXml.equals(another.androidManifestXml)
+        && aaptGeneratedProguardConfigFile.equals(another.aaptGeneratedProguardConfigFile);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pathToRDotTxt}, {@code primaryResourcesApkPath}, {@code androidManifestXml}, {@code aaptGeneratedProguardConfigFile}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + pathToRDotTxt.hashCode();
+    h += (h << 5) + primaryResourcesApkPath.hashCode();
+    h += (h << 5) + androidManifestXml.hashCode();
+    h += (h << 5) + aaptGeneratedProguardConfigFile.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AaptOutputInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AaptOutputInfo")
+        .omitNullValues()
+        .add("pathToRDotTxt", pathToRDotTxt)
+        .add("primaryResourcesApkPath", primaryResourcesApkPath)
+        .add("androidManifestXml", androidManifestXml)
+        .add("aaptGeneratedProguardConfigFile", aaptGeneratedProguardConfigFile)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAaptOutputInfo} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AaptOutputInfo instance
+   */
+  static AaptOutputInfo copyOf(AbstractAaptOutputInfo instance) {
+    if (instance instanceof AaptOutputInfo) {
+      return (AaptOutputInfo) instance;
+    }
+    return AaptOutputInfo.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AaptOutputInfo AaptOutputInfo}.
+   * @return A new AaptOutputInfo builder
+   */
+  public static AaptOutputInfo.Builder builder() {
+    return new AaptOutputInfo.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AaptOutputInfo AaptOutputInfo}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PATH_TO_R_DOT_TXT = 0x1L;
+    private static final long INIT_BIT_PRIMARY_RESOURCES_APK_PATH = 0x2L;
+    private static final long INIT_BIT_ANDROID_MANIFEST_XML = 0x4L;
+    private static final long INIT_BIT_AAPT_GENERATED_PROGUARD_CONFIG_FILE = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable SourcePath pathToRDotTxt;
+    private @Nullable SourcePath primaryResourcesApkPath;
+    private @Nullable SourcePath androidManifestXml;
+    private @Nullable SourcePath aaptGeneratedProguardConfigFile;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AaptOutputInfo} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AaptOutputInfo instance) {
+      return from((AbstractAaptOutputInfo) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAaptOutputInfo} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractAaptOutputInfo instance) {
+      Objects.requireNonNull(instance, "instance");
+      setPathToRDotTxt(instance.getPathToRDotTxt());
+      setPrimaryResourcesApkPath(instance.getPrimaryResourcesApkPath());
+      setAndroidManifestXml(instance.getAndroidManifestXml());
+      setAaptGeneratedProguardConfigFile(instance.getAaptGeneratedProguardConfigFile());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAaptOutputInfo#getPathToRDotTxt() pathToRDotTxt} attribute.
+     * @param pathToRDotTxt The value for pathToRDotTxt 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPathToRDotTxt(SourcePath pathToRDotTxt) {
+      this.pathToRDotTxt = Objects.requireNonNull(pathToRDotTxt, "pathToRDotTxt");
+      initBits &= ~INIT_BIT_PATH_TO_R_DOT_TXT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAaptOutputInfo#getPrimaryResourcesApkPath() primaryResourcesApkPath} attribute.
+     * @param primaryResourcesApkPath The value for primaryResourcesApkPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPrimaryResourcesApkPath(SourcePath primaryResourcesApkPath) {
+      this.primaryResourcesApkPath = Objects.requireNonNull(primaryResourcesApkPath, "primaryResourcesApkPath");
+      initBits &= ~INIT_BIT_PRIMARY_RESOURCES_APK_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAaptOutputInfo#getAndroidManifestXml() androidManifestXml} attribute.
+     * @param androidManifestXml The value for androidManifestXml 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAndroidManifestXml(SourcePath androidManifestXml) {
+      this.androidManifestXml = Objects.requireNonNull(androidManifestXml, "androidManifestXml");
+      initBits &= ~INIT_BIT_ANDROID_MANIFEST_XML;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAaptOutputInfo#getAaptGeneratedProguardConfigFile() aaptGeneratedProguardConfigFile} attribute.
+     * @param aaptGeneratedProguardConfigFile The value for aaptGeneratedProguardConfigFile 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAaptGeneratedProguardConfigFile(SourcePath aaptGeneratedProguardConfigFile) {
+      this.aaptGeneratedProguardConfigFile = Objects.requireNonNull(aaptGeneratedProguardConfigFile, "aaptGeneratedProguardConfigFile");
+      initBits &= ~INIT_BIT_AAPT_GENERATED_PROGUARD_CONFIG_FILE;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link AaptOutputInfo AaptOutputInfo}.
+     * @return An immutable instance of AaptOutputInfo
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AaptOutputInfo build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AaptOutputInfo(pathToRDotTxt, primaryResourcesApkPath, androidManifestXml, aaptGeneratedProguardConfigFile);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_PATH_TO_R_DOT_TXT) != 0) attributes.add("pathToRDotTxt");
+      if ((initBits & INIT_BIT_PRIMARY_RESOURCES_APK_PATH) != 0) attributes.add("primaryResourcesApkPath");
+      if ((initBits & INIT_BIT_ANDROID_MANIFEST_XML) != 0) attributes.add("androidManifestXml");
+      if ((initBits & INIT_BIT_AAPT_GENERATED_PROGUARD_CONFIG_FILE) != 0) attributes.add("aaptGeneratedProguardConfigFile");
+      return "Cannot build AaptOutputInfo, some of required attributes are not set " + attributes;
+    }
+  }
+}
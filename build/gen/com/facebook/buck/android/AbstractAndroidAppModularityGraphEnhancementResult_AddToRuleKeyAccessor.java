@@ -0,0 +1,31 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.android;
+
+public final class AbstractAndroidAppModularityGraphEnhancementResult_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("getFinalDeps()", "getAPKModuleGraph()"));
+
+  @java.lang.Override
+  public java.lang.Class<?> getTargetClass() {
+    return com.facebook.buck.android.AbstractAndroidAppModularityGraphEnhancementResult.class;
+  }
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        return ((com.facebook.buck.android.AbstractAndroidAppModularityGraphEnhancementResult) instance).getFinalDeps();
+      case 1:
+        return ((com.facebook.buck.android.AbstractAndroidAppModularityGraphEnhancementResult) instance).getAPKModuleGraph();
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+}
@@ -0,0 +1,628 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidAppModularityDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg"})
+@Immutable
+public final class AndroidAppModularityDescriptionArg
+    implements AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg {
+  private final ImmutableMap<String, List<BuildTarget>> applicationModuleConfigs;
+  private final ImmutableSet<BuildTarget> noDx;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private AndroidAppModularityDescriptionArg(
+      ImmutableMap<String, List<BuildTarget>> applicationModuleConfigs,
+      ImmutableSet<BuildTarget> noDx,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.applicationModuleConfigs = applicationModuleConfigs;
+    this.noDx = noDx;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+  }
+
+  /**
+   * @return The value of the {@code applicationModuleConfigs} attribute
+   */
+  @Override
+  public ImmutableMap<String, List<BuildTarget>> getApplicationModuleConfigs() {
+    return applicationModuleConfigs;
+  }
+
+  /**
+   * @return The value of the {@code noDx} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getNoDx() {
+    return noDx;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the applicationModuleConfigs map
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAppModularityDescriptionArg withApplicationModuleConfigs(Map<String, ? extends List<BuildTarget>> entries) {
+    if (this.applicationModuleConfigs == entries) return this;
+    ImmutableMap<String, List<BuildTarget>> newValue = ImmutableMap.copyOf(entries);
+    return new AndroidAppModularityDescriptionArg(newValue, this.noDx, this.name, this.licenses, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getNoDx() noDx}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAppModularityDescriptionArg withNoDx(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidAppModularityDescriptionArg(this.applicationModuleConfigs, newValue, this.name, this.licenses, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getNoDx() noDx}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of noDx elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAppModularityDescriptionArg withNoDx(Iterable<? extends BuildTarget> elements) {
+    if (this.noDx == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidAppModularityDescriptionArg(this.applicationModuleConfigs, newValue, this.name, this.licenses, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidAppModularityDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new AndroidAppModularityDescriptionArg(this.applicationModuleConfigs, this.noDx, newValue, this.licenses, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAppModularityDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidAppModularityDescriptionArg(this.applicationModuleConfigs, this.noDx, this.name, newValue, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAppModularityDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidAppModularityDescriptionArg(this.applicationModuleConfigs, this.noDx, this.name, newValue, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAppModularityDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new AndroidAppModularityDescriptionArg(this.applicationModuleConfigs, this.noDx, this.name, this.licenses, newValue, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAppModularityDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new AndroidAppModularityDescriptionArg(this.applicationModuleConfigs, this.noDx, this.name, this.licenses, newValue, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAppModularityDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new AndroidAppModularityDescriptionArg(this.applicationModuleConfigs, this.noDx, this.name, this.licenses, this.labels, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAppModularityDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new AndroidAppModularityDescriptionArg(this.applicationModuleConfigs, this.noDx, this.name, this.licenses, this.labels, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidAppModularityDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidAppModularityDescriptionArg
+        && equalTo((AndroidAppModularityDescriptionArg) another);
+  }
+
+  private boolean equalTo(AndroidAppModularityDescriptionArg another) {
+    return applicationModuleConfigs.equals(another.applicationModuleConfigs)
+        && noDx.equals(another.noDx)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code applicationModuleConfigs}, {@code noDx}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + applicationModuleConfigs.hashCode();
+    h += (h << 5) + noDx.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidAppModularityDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidAppModularityDescriptionArg")
+        .omitNullValues()
+        .add("applicationModuleConfigs", applicationModuleConfigs)
+        .add("noDx", noDx)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AndroidAppModularityDescriptionArg instance
+   */
+  static AndroidAppModularityDescriptionArg copyOf(AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg instance) {
+    if (instance instanceof AndroidAppModularityDescriptionArg) {
+      return (AndroidAppModularityDescriptionArg) instance;
+    }
+    return AndroidAppModularityDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidAppModularityDescriptionArg AndroidAppModularityDescriptionArg}.
+   * @return A new AndroidAppModularityDescriptionArg builder
+   */
+  public static AndroidAppModularityDescriptionArg.Builder builder() {
+    return new AndroidAppModularityDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidAppModularityDescriptionArg AndroidAppModularityDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableMap.Builder<String, List<BuildTarget>> applicationModuleConfigs = ImmutableMap.builder();
+    private ImmutableSet.Builder<BuildTarget> noDx = ImmutableSet.builder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidAppModularityDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidAppModularityDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidAppModularityDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg) {
+        AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg instance = (AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg) object;
+        putAllApplicationModuleConfigs(instance.getApplicationModuleConfigs());
+        addAllNoDx(instance.getNoDx());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Put one entry to the {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map.
+     * @param key The key in the applicationModuleConfigs map
+     * @param value The associated value in the applicationModuleConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putApplicationModuleConfigs(String key, List<BuildTarget> value) {
+      this.applicationModuleConfigs.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putApplicationModuleConfigs(Map.Entry<String, ? extends List<BuildTarget>> entry) {
+      this.applicationModuleConfigs.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map. Nulls are not permitted
+     * @param applicationModuleConfigs The entries that will be added to the applicationModuleConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setApplicationModuleConfigs(Map<String, ? extends List<BuildTarget>> applicationModuleConfigs) {
+      this.applicationModuleConfigs = ImmutableMap.builder();
+      return putAllApplicationModuleConfigs(applicationModuleConfigs);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map. Nulls are not permitted
+     * @param applicationModuleConfigs The entries that will be added to the applicationModuleConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllApplicationModuleConfigs(Map<String, ? extends List<BuildTarget>> applicationModuleConfigs) {
+      this.applicationModuleConfigs.putAll(applicationModuleConfigs);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getNoDx() noDx} set.
+     * @param element A noDx element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addNoDx(BuildTarget element) {
+      this.noDx.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getNoDx() noDx} set.
+     * @param elements An array of noDx elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addNoDx(BuildTarget... elements) {
+      this.noDx.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getNoDx() noDx} set.
+     * @param elements An iterable of noDx elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNoDx(Iterable<? extends BuildTarget> elements) {
+      this.noDx = ImmutableSet.builder();
+      return addAllNoDx(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getNoDx() noDx} set.
+     * @param elements An iterable of noDx elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllNoDx(Iterable<? extends BuildTarget> elements) {
+      this.noDx.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidAppModularityDescriptionArg AndroidAppModularityDescriptionArg}.
+     * @return An immutable instance of AndroidAppModularityDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidAppModularityDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidAppModularityDescriptionArg(
+          applicationModuleConfigs.build(),
+          noDx.build(),
+          name,
+          licenses.build(),
+          labels.build(),
+          deps.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AndroidAppModularityDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
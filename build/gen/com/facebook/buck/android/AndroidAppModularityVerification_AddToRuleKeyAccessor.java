@@ -0,0 +1,70 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.android;
+
+public final class AndroidAppModularityVerification_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.lang.invoke.MethodHandle MEMBER_0 = getter("appModularityResult");
+  private static final java.lang.invoke.MethodHandle MEMBER_1 = getter("skipProguard");
+  private static final java.lang.invoke.MethodHandle MEMBER_2 = getter("moduleMappedClasspathEntriesForConsistency");
+  private static final java.lang.invoke.MethodHandle MEMBER_3 = getter("proguardTextFilesPath");
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("appModularityResult", "skipProguard", "moduleMappedClasspathEntriesForConsistency", "proguardTextFilesPath"));
+
+  @java.lang.Override
+  public java.lang.Class<?> getTargetClass() {
+    return com.facebook.buck.android.AndroidAppModularityVerification.class;
+  }
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        try {
+          return MEMBER_0.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 1:
+        try {
+          return MEMBER_1.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 2:
+        try {
+          return MEMBER_2.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 3:
+        try {
+          return MEMBER_3.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+
+  private static java.lang.invoke.MethodHandle getter(java.lang.String name) {
+    try {
+      java.lang.reflect.Field field = com.facebook.buck.android.AndroidAppModularityVerification.class.getDeclaredField(name);
+      field.setAccessible(true);
+      return java.lang.invoke.MethodHandles.lookup()
+          .unreflectGetter(field)
+          .asType(
+              java.lang.invoke.MethodType.methodType(
+                  java.lang.Object.class, java.lang.Object.class));
+    } catch (java.lang.ReflectiveOperationException e) {
+      throw new java.lang.IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,137 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.android;
+
+public final class AndroidBinaryBuildable_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.lang.invoke.MethodHandle MEMBER_0 = getter("exopackageModes");
+  private static final java.lang.invoke.MethodHandle MEMBER_1 = getter("androidManifestPath");
+  private static final java.lang.invoke.MethodHandle MEMBER_2 = getter("dexFilesInfo");
+  private static final java.lang.invoke.MethodHandle MEMBER_3 = getter("nativeFilesInfo");
+  private static final java.lang.invoke.MethodHandle MEMBER_4 = getter("resourceFilesInfo");
+  private static final java.lang.invoke.MethodHandle MEMBER_7 = getter("redexOptions");
+  private static final java.lang.invoke.MethodHandle MEMBER_8 = getter("additionalRedexInputs");
+  private static final java.lang.invoke.MethodHandle MEMBER_9 = getter("xzCompressionLevel");
+  private static final java.lang.invoke.MethodHandle MEMBER_10 = getter("keystorePath");
+  private static final java.lang.invoke.MethodHandle MEMBER_11 = getter("keystorePropertiesPath");
+  private static final java.lang.invoke.MethodHandle MEMBER_12 = getter("apkModules");
+  private static final java.lang.invoke.MethodHandle MEMBER_13 = getter("javaRuntimeLauncher");
+  private static final java.lang.invoke.MethodHandle MEMBER_14 = getter("isCompressResources");
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("exopackageModes", "androidManifestPath", "dexFilesInfo", "nativeFilesInfo", "resourceFilesInfo", "packageAssetLibraries", "compressAssetLibraries", "redexOptions", "additionalRedexInputs", "xzCompressionLevel", "keystorePath", "keystorePropertiesPath", "apkModules", "javaRuntimeLauncher", "isCompressResources"));
+
+  @java.lang.Override
+  public java.lang.Class<?> getTargetClass() {
+    return com.facebook.buck.android.AndroidBinaryBuildable.class;
+  }
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        try {
+          return MEMBER_0.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 1:
+        try {
+          return MEMBER_1.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 2:
+        try {
+          return MEMBER_2.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 3:
+        try {
+          return MEMBER_3.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 4:
+        try {
+          return MEMBER_4.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 5:
+        return ((com.facebook.buck.android.AndroidBinaryBuildable) instance).packageAssetLibraries;
+      case 6:
+        return ((com.facebook.buck.android.AndroidBinaryBuildable) instance).compressAssetLibraries;
+      case 7:
+        try {
+          return MEMBER_7.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 8:
+        try {
+          return MEMBER_8.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 9:
+        try {
+          return MEMBER_9.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 10:
+        try {
+          return MEMBER_10.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 11:
+        try {
+          return MEMBER_11.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 12:
+        try {
+          return MEMBER_12.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 13:
+        try {
+          return MEMBER_13.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 14:
+        try {
+          return MEMBER_14.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+
+  private static java.lang.invoke.MethodHandle getter(java.lang.String name) {
+    try {
+      java.lang.reflect.Field field = com.facebook.buck.android.AndroidBinaryBuildable.class.getDeclaredField(name);
+      field.setAccessible(true);
+      return java.lang.invoke.MethodHandles.lookup()
+          .unreflectGetter(field)
+          .asType(
+              java.lang.invoke.MethodType.methodType(
+                  java.lang.Object.class, java.lang.Object.class));
+    } catch (java.lang.ReflectiveOperationException e) {
+      throw new java.lang.IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,12463 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.aapt.RDotTxtEntry;
+import com.facebook.buck.android.exopackage.ExopackageMode;
+import com.facebook.buck.android.toolchain.TargetCpuType;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasTests;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.coercer.BuildConfigFields;
+import com.facebook.buck.rules.coercer.ManifestEntries;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.collect.Sets;
+import com.google.common.primitives.Booleans;
+import com.google.common.primitives.Longs;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidBinaryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg"})
+@Immutable
+public final class AndroidBinaryDescriptionArg
+    implements AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg {
+  private final SourcePath manifest;
+  private final BuildTarget keystore;
+  private final @Nullable String packageType;
+  private final ImmutableSet<BuildTarget> noDx;
+  private final boolean useSplitDex;
+  private final boolean minimizePrimaryDexSize;
+  private final boolean disablePreDex;
+  private final @Nullable Boolean exopackage;
+  private final ImmutableSet<ExopackageMode> exopackageModes;
+  private final @Nullable DexStore dexCompression;
+  private final @Nullable ProGuardObfuscateStep.SdkProguardType androidSdkProguardConfig;
+  private final @Nullable Integer optimizationPasses;
+  private final ImmutableList<String> proguardJvmArgs;
+  private final @Nullable SourcePath proguardConfig;
+  private final ResourcesFilter.ResourceCompressionMode resourceCompression;
+  private final boolean skipCrunchPngs;
+  private final boolean includesVectorDrawables;
+  private final boolean noAutoVersionResources;
+  private final ImmutableList<String> primaryDexPatterns;
+  private final @Nullable SourcePath primaryDexClassesFile;
+  private final @Nullable SourcePath primaryDexScenarioFile;
+  private final boolean primaryDexScenarioOverflowAllowed;
+  private final @Nullable SourcePath secondaryDexHeadClassesFile;
+  private final @Nullable SourcePath secondaryDexTailClassesFile;
+  private final ImmutableSet<BuildTarget> applicationModuleTargets;
+  private final @Nullable SourcePath androidAppModularityResult;
+  private final ImmutableMap<String, List<BuildTarget>> applicationModuleConfigs;
+  private final long linearAllocHardLimit;
+  private final ImmutableList<String> resourceFilter;
+  private final boolean isCacheable;
+  private final AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.DuplicateResourceBehaviour duplicateResourceBehavior;
+  private final ImmutableSet<RDotTxtEntry.RType> allowedDuplicateResourceTypes;
+  private final ImmutableSet<RDotTxtEntry.RType> bannedDuplicateResourceTypes;
+  private final AndroidBinary.AaptMode aaptMode;
+  private final boolean trimResourceIds;
+  private final @Nullable String keepResourcePattern;
+  private final @Nullable String resourceUnionPackage;
+  private final ImmutableSet<String> locales;
+  private final boolean buildStringSourceMap;
+  private final ImmutableSet<TargetCpuType> cpuFilters;
+  private final ImmutableSortedSet<BuildTarget> preprocessJavaClassesDeps;
+  private final @Nullable String preprocessJavaClassesBash;
+  private final boolean reorderClassesIntraDex;
+  private final @Nullable SourcePath dexReorderToolFile;
+  private final @Nullable SourcePath dexReorderDataDumpFile;
+  private final @Nullable Integer xzCompressionLevel;
+  private final boolean packageAssetLibraries;
+  private final boolean compressAssetLibraries;
+  private final ImmutableMap<String, List<Pattern>> nativeLibraryMergeMap;
+  private final @Nullable BuildTarget nativeLibraryMergeGlue;
+  private final @Nullable BuildTarget nativeLibraryMergeCodeGenerator;
+  private final @Nullable ImmutableSortedSet<String> nativeLibraryMergeLocalizedSymbols;
+  private final @Nullable BuildTarget nativeLibraryProguardConfigGenerator;
+  private final boolean enableRelinker;
+  private final ImmutableList<Pattern> relinkerWhitelist;
+  private final ManifestEntries manifestEntries;
+  private final BuildConfigFields buildConfigValues;
+  private final boolean redex;
+  private final @Nullable SourcePath redexConfig;
+  private final ImmutableList<String> redexExtraArgs;
+  private final @Nullable String postFilterResourcesCmd;
+  private final @Nullable SourcePath buildConfigValuesFile;
+  private final boolean skipProguard;
+  private final EnumSet<RDotTxtEntry.RType> effectiveBannedDuplicateResourceTypes;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<BuildTarget> tests;
+
+  private AndroidBinaryDescriptionArg(AndroidBinaryDescriptionArg.Builder builder) {
+    this.manifest = builder.manifest;
+    this.keystore = builder.keystore;
+    this.packageType = builder.packageType;
+    this.noDx = builder.noDx.build();
+    this.exopackage = builder.exopackage;
+    this.exopackageModes = Sets.immutableEnumSet(builder.exopackageModes.build());
+    this.dexCompression = builder.dexCompression;
+    this.androidSdkProguardConfig = builder.androidSdkProguardConfig;
+    this.optimizationPasses = builder.optimizationPasses;
+    this.proguardJvmArgs = builder.proguardJvmArgs.build();
+    this.proguardConfig = builder.proguardConfig;
+    this.primaryDexPatterns = builder.primaryDexPatterns.build();
+    this.primaryDexClassesFile = builder.primaryDexClassesFile;
+    this.primaryDexScenarioFile = builder.primaryDexScenarioFile;
+    this.secondaryDexHeadClassesFile = builder.secondaryDexHeadClassesFile;
+    this.secondaryDexTailClassesFile = builder.secondaryDexTailClassesFile;
+    this.applicationModuleTargets = builder.applicationModuleTargets.build();
+    this.androidAppModularityResult = builder.androidAppModularityResult;
+    this.applicationModuleConfigs = builder.applicationModuleConfigs.build();
+    this.resourceFilter = builder.resourceFilter.build();
+    this.allowedDuplicateResourceTypes = Sets.immutableEnumSet(builder.allowedDuplicateResourceTypes.build());
+    this.bannedDuplicateResourceTypes = Sets.immutableEnumSet(builder.bannedDuplicateResourceTypes.build());
+    this.keepResourcePattern = builder.keepResourcePattern;
+    this.resourceUnionPackage = builder.resourceUnionPackage;
+    this.locales = builder.locales.build();
+    this.cpuFilters = Sets.immutableEnumSet(builder.cpuFilters.build());
+    this.preprocessJavaClassesDeps = builder.preprocessJavaClassesDeps.build();
+    this.preprocessJavaClassesBash = builder.preprocessJavaClassesBash;
+    this.dexReorderToolFile = builder.dexReorderToolFile;
+    this.dexReorderDataDumpFile = builder.dexReorderDataDumpFile;
+    this.xzCompressionLevel = builder.xzCompressionLevel;
+    this.nativeLibraryMergeMap = builder.nativeLibraryMergeMap.build();
+    this.nativeLibraryMergeGlue = builder.nativeLibraryMergeGlue;
+    this.nativeLibraryMergeCodeGenerator = builder.nativeLibraryMergeCodeGenerator;
+    this.nativeLibraryMergeLocalizedSymbols = builder.nativeLibraryMergeLocalizedSymbols;
+    this.nativeLibraryProguardConfigGenerator = builder.nativeLibraryProguardConfigGenerator;
+    this.relinkerWhitelist = builder.relinkerWhitelist.build();
+    this.redexConfig = builder.redexConfig;
+    this.redexExtraArgs = builder.redexExtraArgs.build();
+    this.postFilterResourcesCmd = builder.postFilterResourcesCmd;
+    this.buildConfigValuesFile = builder.buildConfigValuesFile;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.tests = builder.tests.build();
+    if (builder.useSplitDexIsSet()) {
+      initShim.setUseSplitDex(builder.useSplitDex);
+    }
+    if (builder.minimizePrimaryDexSizeIsSet()) {
+      initShim.setMinimizePrimaryDexSize(builder.minimizePrimaryDexSize);
+    }
+    if (builder.disablePreDexIsSet()) {
+      initShim.setDisablePreDex(builder.disablePreDex);
+    }
+    if (builder.resourceCompression != null) {
+      initShim.setResourceCompression(builder.resourceCompression);
+    }
+    if (builder.skipCrunchPngsIsSet()) {
+      initShim.setSkipCrunchPngs(builder.skipCrunchPngs);
+    }
+    if (builder.includesVectorDrawablesIsSet()) {
+      initShim.setIncludesVectorDrawables(builder.includesVectorDrawables);
+    }
+    if (builder.noAutoVersionResourcesIsSet()) {
+      initShim.setNoAutoVersionResources(builder.noAutoVersionResources);
+    }
+    if (builder.primaryDexScenarioOverflowAllowedIsSet()) {
+      initShim.setPrimaryDexScenarioOverflowAllowed(builder.primaryDexScenarioOverflowAllowed);
+    }
+    if (builder.linearAllocHardLimitIsSet()) {
+      initShim.setLinearAllocHardLimit(builder.linearAllocHardLimit);
+    }
+    if (builder.isCacheableIsSet()) {
+      initShim.setIsCacheable(builder.isCacheable);
+    }
+    if (builder.duplicateResourceBehavior != null) {
+      initShim.setDuplicateResourceBehavior(builder.duplicateResourceBehavior);
+    }
+    if (builder.aaptMode != null) {
+      initShim.setAaptMode(builder.aaptMode);
+    }
+    if (builder.trimResourceIdsIsSet()) {
+      initShim.setTrimResourceIds(builder.trimResourceIds);
+    }
+    if (builder.buildStringSourceMapIsSet()) {
+      initShim.setBuildStringSourceMap(builder.buildStringSourceMap);
+    }
+    if (builder.reorderClassesIntraDexIsSet()) {
+      initShim.setReorderClassesIntraDex(builder.reorderClassesIntraDex);
+    }
+    if (builder.packageAssetLibrariesIsSet()) {
+      initShim.setPackageAssetLibraries(builder.packageAssetLibraries);
+    }
+    if (builder.compressAssetLibrariesIsSet()) {
+      initShim.setCompressAssetLibraries(builder.compressAssetLibraries);
+    }
+    if (builder.enableRelinkerIsSet()) {
+      initShim.setEnableRelinker(builder.enableRelinker);
+    }
+    if (builder.manifestEntries != null) {
+      initShim.setManifestEntries(builder.manifestEntries);
+    }
+    if (builder.buildConfigValues != null) {
+      initShim.setBuildConfigValues(builder.buildConfigValues);
+    }
+    if (builder.redexIsSet()) {
+      initShim.setRedex(builder.redex);
+    }
+    if (builder.skipProguardIsSet()) {
+      initShim.setSkipProguard(builder.skipProguard);
+    }
+    this.useSplitDex = initShim.getUseSplitDex();
+    this.minimizePrimaryDexSize = initShim.getMinimizePrimaryDexSize();
+    this.disablePreDex = initShim.getDisablePreDex();
+    this.resourceCompression = initShim.getResourceCompression();
+    this.skipCrunchPngs = initShim.isSkipCrunchPngs();
+    this.includesVectorDrawables = initShim.isIncludesVectorDrawables();
+    this.noAutoVersionResources = initShim.isNoAutoVersionResources();
+    this.primaryDexScenarioOverflowAllowed = initShim.isPrimaryDexScenarioOverflowAllowed();
+    this.linearAllocHardLimit = initShim.getLinearAllocHardLimit();
+    this.isCacheable = initShim.getIsCacheable();
+    this.duplicateResourceBehavior = initShim.getDuplicateResourceBehavior();
+    this.aaptMode = initShim.getAaptMode();
+    this.trimResourceIds = initShim.isTrimResourceIds();
+    this.buildStringSourceMap = initShim.isBuildStringSourceMap();
+    this.reorderClassesIntraDex = initShim.isReorderClassesIntraDex();
+    this.packageAssetLibraries = initShim.isPackageAssetLibraries();
+    this.compressAssetLibraries = initShim.isCompressAssetLibraries();
+    this.enableRelinker = initShim.isEnableRelinker();
+    this.manifestEntries = initShim.getManifestEntries();
+    this.buildConfigValues = initShim.getBuildConfigValues();
+    this.redex = initShim.getRedex();
+    this.skipProguard = initShim.isSkipProguard();
+    this.effectiveBannedDuplicateResourceTypes = initShim.getEffectiveBannedDuplicateResourceTypes();
+    this.initShim = null;
+  }
+
+  private AndroidBinaryDescriptionArg(
+      SourcePath manifest,
+      BuildTarget keystore,
+      @Nullable String packageType,
+      ImmutableSet<BuildTarget> noDx,
+      boolean useSplitDex,
+      boolean minimizePrimaryDexSize,
+      boolean disablePreDex,
+      @Nullable Boolean exopackage,
+      ImmutableSet<ExopackageMode> exopackageModes,
+      @Nullable DexStore dexCompression,
+      @Nullable ProGuardObfuscateStep.SdkProguardType androidSdkProguardConfig,
+      @Nullable Integer optimizationPasses,
+      ImmutableList<String> proguardJvmArgs,
+      @Nullable SourcePath proguardConfig,
+      ResourcesFilter.ResourceCompressionMode resourceCompression,
+      boolean skipCrunchPngs,
+      boolean includesVectorDrawables,
+      boolean noAutoVersionResources,
+      ImmutableList<String> primaryDexPatterns,
+      @Nullable SourcePath primaryDexClassesFile,
+      @Nullable SourcePath primaryDexScenarioFile,
+      boolean primaryDexScenarioOverflowAllowed,
+      @Nullable SourcePath secondaryDexHeadClassesFile,
+      @Nullable SourcePath secondaryDexTailClassesFile,
+      ImmutableSet<BuildTarget> applicationModuleTargets,
+      @Nullable SourcePath androidAppModularityResult,
+      ImmutableMap<String, List<BuildTarget>> applicationModuleConfigs,
+      long linearAllocHardLimit,
+      ImmutableList<String> resourceFilter,
+      boolean isCacheable,
+      AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.DuplicateResourceBehaviour duplicateResourceBehavior,
+      ImmutableSet<RDotTxtEntry.RType> allowedDuplicateResourceTypes,
+      ImmutableSet<RDotTxtEntry.RType> bannedDuplicateResourceTypes,
+      AndroidBinary.AaptMode aaptMode,
+      boolean trimResourceIds,
+      @Nullable String keepResourcePattern,
+      @Nullable String resourceUnionPackage,
+      ImmutableSet<String> locales,
+      boolean buildStringSourceMap,
+      ImmutableSet<TargetCpuType> cpuFilters,
+      ImmutableSortedSet<BuildTarget> preprocessJavaClassesDeps,
+      @Nullable String preprocessJavaClassesBash,
+      boolean reorderClassesIntraDex,
+      @Nullable SourcePath dexReorderToolFile,
+      @Nullable SourcePath dexReorderDataDumpFile,
+      @Nullable Integer xzCompressionLevel,
+      boolean packageAssetLibraries,
+      boolean compressAssetLibraries,
+      ImmutableMap<String, List<Pattern>> nativeLibraryMergeMap,
+      @Nullable BuildTarget nativeLibraryMergeGlue,
+      @Nullable BuildTarget nativeLibraryMergeCodeGenerator,
+      @Nullable ImmutableSortedSet<String> nativeLibraryMergeLocalizedSymbols,
+      @Nullable BuildTarget nativeLibraryProguardConfigGenerator,
+      boolean enableRelinker,
+      ImmutableList<Pattern> relinkerWhitelist,
+      ManifestEntries manifestEntries,
+      BuildConfigFields buildConfigValues,
+      boolean redex,
+      @Nullable SourcePath redexConfig,
+      ImmutableList<String> redexExtraArgs,
+      @Nullable String postFilterResourcesCmd,
+      @Nullable SourcePath buildConfigValuesFile,
+      boolean skipProguard,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<BuildTarget> tests) {
+    this.manifest = manifest;
+    this.keystore = keystore;
+    this.packageType = packageType;
+    this.noDx = noDx;
+    this.useSplitDex = useSplitDex;
+    this.minimizePrimaryDexSize = minimizePrimaryDexSize;
+    this.disablePreDex = disablePreDex;
+    this.exopackage = exopackage;
+    this.exopackageModes = exopackageModes;
+    this.dexCompression = dexCompression;
+    this.androidSdkProguardConfig = androidSdkProguardConfig;
+    this.optimizationPasses = optimizationPasses;
+    this.proguardJvmArgs = proguardJvmArgs;
+    this.proguardConfig = proguardConfig;
+    this.resourceCompression = resourceCompression;
+    this.skipCrunchPngs = skipCrunchPngs;
+    this.includesVectorDrawables = includesVectorDrawables;
+    this.noAutoVersionResources = noAutoVersionResources;
+    this.primaryDexPatterns = primaryDexPatterns;
+    this.primaryDexClassesFile = primaryDexClassesFile;
+    this.primaryDexScenarioFile = primaryDexScenarioFile;
+    this.primaryDexScenarioOverflowAllowed = primaryDexScenarioOverflowAllowed;
+    this.secondaryDexHeadClassesFile = secondaryDexHeadClassesFile;
+    this.secondaryDexTailClassesFile = secondaryDexTailClassesFile;
+    this.applicationModuleTargets = applicationModuleTargets;
+    this.androidAppModularityResult = androidAppModularityResult;
+    this.applicationModuleConfigs = applicationModuleConfigs;
+    this.linearAllocHardLimit = linearAllocHardLimit;
+    this.resourceFilter = resourceFilter;
+    this.isCacheable = isCacheable;
+    this.duplicateResourceBehavior = duplicateResourceBehavior;
+    this.allowedDuplicateResourceTypes = allowedDuplicateResourceTypes;
+    this.bannedDuplicateResourceTypes = bannedDuplicateResourceTypes;
+    this.aaptMode = aaptMode;
+    this.trimResourceIds = trimResourceIds;
+    this.keepResourcePattern = keepResourcePattern;
+    this.resourceUnionPackage = resourceUnionPackage;
+    this.locales = locales;
+    this.buildStringSourceMap = buildStringSourceMap;
+    this.cpuFilters = cpuFilters;
+    this.preprocessJavaClassesDeps = preprocessJavaClassesDeps;
+    this.preprocessJavaClassesBash = preprocessJavaClassesBash;
+    this.reorderClassesIntraDex = reorderClassesIntraDex;
+    this.dexReorderToolFile = dexReorderToolFile;
+    this.dexReorderDataDumpFile = dexReorderDataDumpFile;
+    this.xzCompressionLevel = xzCompressionLevel;
+    this.packageAssetLibraries = packageAssetLibraries;
+    this.compressAssetLibraries = compressAssetLibraries;
+    this.nativeLibraryMergeMap = nativeLibraryMergeMap;
+    this.nativeLibraryMergeGlue = nativeLibraryMergeGlue;
+    this.nativeLibraryMergeCodeGenerator = nativeLibraryMergeCodeGenerator;
+    this.nativeLibraryMergeLocalizedSymbols = nativeLibraryMergeLocalizedSymbols;
+    this.nativeLibraryProguardConfigGenerator = nativeLibraryProguardConfigGenerator;
+    this.enableRelinker = enableRelinker;
+    this.relinkerWhitelist = relinkerWhitelist;
+    this.manifestEntries = manifestEntries;
+    this.buildConfigValues = buildConfigValues;
+    this.redex = redex;
+    this.redexConfig = redexConfig;
+    this.redexExtraArgs = redexExtraArgs;
+    this.postFilterResourcesCmd = postFilterResourcesCmd;
+    this.buildConfigValuesFile = buildConfigValuesFile;
+    this.skipProguard = skipProguard;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.tests = tests;
+    initShim.setUseSplitDex(this.useSplitDex);
+    initShim.setMinimizePrimaryDexSize(this.minimizePrimaryDexSize);
+    initShim.setDisablePreDex(this.disablePreDex);
+    initShim.setResourceCompression(this.resourceCompression);
+    initShim.setSkipCrunchPngs(this.skipCrunchPngs);
+    initShim.setIncludesVectorDrawables(this.includesVectorDrawables);
+    initShim.setNoAutoVersionResources(this.noAutoVersionResources);
+    initShim.setPrimaryDexScenarioOverflowAllowed(this.primaryDexScenarioOverflowAllowed);
+    initShim.setLinearAllocHardLimit(this.linearAllocHardLimit);
+    initShim.setIsCacheable(this.isCacheable);
+    initShim.setDuplicateResourceBehavior(this.duplicateResourceBehavior);
+    initShim.setAaptMode(this.aaptMode);
+    initShim.setTrimResourceIds(this.trimResourceIds);
+    initShim.setBuildStringSourceMap(this.buildStringSourceMap);
+    initShim.setReorderClassesIntraDex(this.reorderClassesIntraDex);
+    initShim.setPackageAssetLibraries(this.packageAssetLibraries);
+    initShim.setCompressAssetLibraries(this.compressAssetLibraries);
+    initShim.setEnableRelinker(this.enableRelinker);
+    initShim.setManifestEntries(this.manifestEntries);
+    initShim.setBuildConfigValues(this.buildConfigValues);
+    initShim.setRedex(this.redex);
+    initShim.setSkipProguard(this.skipProguard);
+    this.effectiveBannedDuplicateResourceTypes = initShim.getEffectiveBannedDuplicateResourceTypes();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean useSplitDex;
+    private int useSplitDexBuildStage;
+
+    boolean getUseSplitDex() {
+      if (useSplitDexBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (useSplitDexBuildStage == STAGE_UNINITIALIZED) {
+        useSplitDexBuildStage = STAGE_INITIALIZING;
+        this.useSplitDex = getUseSplitDexInitialize();
+        useSplitDexBuildStage = STAGE_INITIALIZED;
+      }
+      return this.useSplitDex;
+    }
+
+    void setUseSplitDex(boolean useSplitDex) {
+      this.useSplitDex = useSplitDex;
+      useSplitDexBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean minimizePrimaryDexSize;
+    private int minimizePrimaryDexSizeBuildStage;
+
+    boolean getMinimizePrimaryDexSize() {
+      if (minimizePrimaryDexSizeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (minimizePrimaryDexSizeBuildStage == STAGE_UNINITIALIZED) {
+        minimizePrimaryDexSizeBuildStage = STAGE_INITIALIZING;
+        this.minimizePrimaryDexSize = getMinimizePrimaryDexSizeInitialize();
+        minimizePrimaryDexSizeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.minimizePrimaryDexSize;
+    }
+
+    void setMinimizePrimaryDexSize(boolean minimizePrimaryDexSize) {
+      this.minimizePrimaryDexSize = minimizePrimaryDexSize;
+      minimizePrimaryDexSizeBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean disablePreDex;
+    private int disablePreDexBuildStage;
+
+    boolean getDisablePreDex() {
+      if (disablePreDexBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (disablePreDexBuildStage == STAGE_UNINITIALIZED) {
+        disablePreDexBuildStage = STAGE_INITIALIZING;
+        this.disablePreDex = getDisablePreDexInitialize();
+        disablePreDexBuildStage = STAGE_INITIALIZED;
+      }
+      return this.disablePreDex;
+    }
+
+    void setDisablePreDex(boolean disablePreDex) {
+      this.disablePreDex = disablePreDex;
+      disablePreDexBuildStage = STAGE_INITIALIZED;
+    }
+    private ResourcesFilter.ResourceCompressionMode resourceCompression;
+    private int resourceCompressionBuildStage;
+
+    ResourcesFilter.ResourceCompressionMode getResourceCompression() {
+      if (resourceCompressionBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (resourceCompressionBuildStage == STAGE_UNINITIALIZED) {
+        resourceCompressionBuildStage = STAGE_INITIALIZING;
+        this.resourceCompression = Objects.requireNonNull(getResourceCompressionInitialize(), "resourceCompression");
+        resourceCompressionBuildStage = STAGE_INITIALIZED;
+      }
+      return this.resourceCompression;
+    }
+
+    void setResourceCompression(ResourcesFilter.ResourceCompressionMode resourceCompression) {
+      this.resourceCompression = resourceCompression;
+      resourceCompressionBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean skipCrunchPngs;
+    private int skipCrunchPngsBuildStage;
+
+    boolean isSkipCrunchPngs() {
+      if (skipCrunchPngsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (skipCrunchPngsBuildStage == STAGE_UNINITIALIZED) {
+        skipCrunchPngsBuildStage = STAGE_INITIALIZING;
+        this.skipCrunchPngs = isSkipCrunchPngsInitialize();
+        skipCrunchPngsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.skipCrunchPngs;
+    }
+
+    void setSkipCrunchPngs(boolean skipCrunchPngs) {
+      this.skipCrunchPngs = skipCrunchPngs;
+      skipCrunchPngsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean includesVectorDrawables;
+    private int includesVectorDrawablesBuildStage;
+
+    boolean isIncludesVectorDrawables() {
+      if (includesVectorDrawablesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (includesVectorDrawablesBuildStage == STAGE_UNINITIALIZED) {
+        includesVectorDrawablesBuildStage = STAGE_INITIALIZING;
+        this.includesVectorDrawables = isIncludesVectorDrawablesInitialize();
+        includesVectorDrawablesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.includesVectorDrawables;
+    }
+
+    void setIncludesVectorDrawables(boolean includesVectorDrawables) {
+      this.includesVectorDrawables = includesVectorDrawables;
+      includesVectorDrawablesBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean noAutoVersionResources;
+    private int noAutoVersionResourcesBuildStage;
+
+    boolean isNoAutoVersionResources() {
+      if (noAutoVersionResourcesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (noAutoVersionResourcesBuildStage == STAGE_UNINITIALIZED) {
+        noAutoVersionResourcesBuildStage = STAGE_INITIALIZING;
+        this.noAutoVersionResources = isNoAutoVersionResourcesInitialize();
+        noAutoVersionResourcesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.noAutoVersionResources;
+    }
+
+    void setNoAutoVersionResources(boolean noAutoVersionResources) {
+      this.noAutoVersionResources = noAutoVersionResources;
+      noAutoVersionResourcesBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean primaryDexScenarioOverflowAllowed;
+    private int primaryDexScenarioOverflowAllowedBuildStage;
+
+    boolean isPrimaryDexScenarioOverflowAllowed() {
+      if (primaryDexScenarioOverflowAllowedBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (primaryDexScenarioOverflowAllowedBuildStage == STAGE_UNINITIALIZED) {
+        primaryDexScenarioOverflowAllowedBuildStage = STAGE_INITIALIZING;
+        this.primaryDexScenarioOverflowAllowed = isPrimaryDexScenarioOverflowAllowedInitialize();
+        primaryDexScenarioOverflowAllowedBuildStage = STAGE_INITIALIZED;
+      }
+      return this.primaryDexScenarioOverflowAllowed;
+    }
+
+    void setPrimaryDexScenarioOverflowAllowed(boolean primaryDexScenarioOverflowAllowed) {
+      this.primaryDexScenarioOverflowAllowed = primaryDexScenarioOverflowAllowed;
+      primaryDexScenarioOverflowAllowedBuildStage = STAGE_INITIALIZED;
+    }
+    private long linearAllocHardLimit;
+    private int linearAllocHardLimitBuildStage;
+
+    long getLinearAllocHardLimit() {
+      if (linearAllocHardLimitBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (linearAllocHardLimitBuildStage == STAGE_UNINITIALIZED) {
+        linearAllocHardLimitBuildStage = STAGE_INITIALIZING;
+        this.linearAllocHardLimit = getLinearAllocHardLimitInitialize();
+        linearAllocHardLimitBuildStage = STAGE_INITIALIZED;
+      }
+      return this.linearAllocHardLimit;
+    }
+
+    void setLinearAllocHardLimit(long linearAllocHardLimit) {
+      this.linearAllocHardLimit = linearAllocHardLimit;
+      linearAllocHardLimitBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean isCacheable;
+    private int isCacheableBuildStage;
+
+    boolean getIsCacheable() {
+      if (isCacheableBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (isCacheableBuildStage == STAGE_UNINITIALIZED) {
+        isCacheableBuildStage = STAGE_INITIALIZING;
+        this.isCacheable = getIsCacheableInitialize();
+        isCacheableBuildStage = STAGE_INITIALIZED;
+      }
+      return this.isCacheable;
+    }
+
+    void setIsCacheable(boolean isCacheable) {
+      this.isCacheable = isCacheable;
+      isCacheableBuildStage = STAGE_INITIALIZED;
+    }
+    private AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.DuplicateResourceBehaviour duplicateResourceBehavior;
+    private int duplicateResourceBehaviorBuildStage;
+
+    AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.DuplicateResourceBehaviour getDuplicateResourceBehavior() {
+      if (duplicateResourceBehaviorBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (duplicateResourceBehaviorBuildStage == STAGE_UNINITIALIZED) {
+        duplicateResourceBehaviorBuildStage = STAGE_INITIALIZING;
+        this.duplicateResourceBehavior = Objects.requireNonNull(getDuplicateResourceBehaviorInitialize(), "duplicateResourceBehavior");
+        duplicateResourceBehaviorBuildStage = STAGE_INITIALIZED;
+      }
+      return this.duplicateResourceBehavior;
+    }
+
+    void setDuplicateResourceBehavior(AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.DuplicateResourceBehaviour duplicateResourceBehavior) {
+      this.duplicateResourceBehavior = duplicateResourceBehavior;
+      duplicateResourceBehaviorBuildStage = STAGE_INITIALIZED;
+    }
+    private AndroidBinary.AaptMode aaptMode;
+    private int aaptModeBuildStage;
+
+    AndroidBinary.AaptMode getAaptMode() {
+      if (aaptModeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (aaptModeBuildStage == STAGE_UNINITIALIZED) {
+        aaptModeBuildStage = STAGE_INITIALIZING;
+        this.aaptMode = Objects.requireNonNull(getAaptModeInitialize(), "aaptMode");
+        aaptModeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.aaptMode;
+    }
+
+    void setAaptMode(AndroidBinary.AaptMode aaptMode) {
+      this.aaptMode = aaptMode;
+      aaptModeBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean trimResourceIds;
+    private int trimResourceIdsBuildStage;
+
+    boolean isTrimResourceIds() {
+      if (trimResourceIdsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (trimResourceIdsBuildStage == STAGE_UNINITIALIZED) {
+        trimResourceIdsBuildStage = STAGE_INITIALIZING;
+        this.trimResourceIds = isTrimResourceIdsInitialize();
+        trimResourceIdsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.trimResourceIds;
+    }
+
+    void setTrimResourceIds(boolean trimResourceIds) {
+      this.trimResourceIds = trimResourceIds;
+      trimResourceIdsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean buildStringSourceMap;
+    private int buildStringSourceMapBuildStage;
+
+    boolean isBuildStringSourceMap() {
+      if (buildStringSourceMapBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildStringSourceMapBuildStage == STAGE_UNINITIALIZED) {
+        buildStringSourceMapBuildStage = STAGE_INITIALIZING;
+        this.buildStringSourceMap = isBuildStringSourceMapInitialize();
+        buildStringSourceMapBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildStringSourceMap;
+    }
+
+    void setBuildStringSourceMap(boolean buildStringSourceMap) {
+      this.buildStringSourceMap = buildStringSourceMap;
+      buildStringSourceMapBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean reorderClassesIntraDex;
+    private int reorderClassesIntraDexBuildStage;
+
+    boolean isReorderClassesIntraDex() {
+      if (reorderClassesIntraDexBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (reorderClassesIntraDexBuildStage == STAGE_UNINITIALIZED) {
+        reorderClassesIntraDexBuildStage = STAGE_INITIALIZING;
+        this.reorderClassesIntraDex = isReorderClassesIntraDexInitialize();
+        reorderClassesIntraDexBuildStage = STAGE_INITIALIZED;
+      }
+      return this.reorderClassesIntraDex;
+    }
+
+    void setReorderClassesIntraDex(boolean reorderClassesIntraDex) {
+      this.reorderClassesIntraDex = reorderClassesIntraDex;
+      reorderClassesIntraDexBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean packageAssetLibraries;
+    private int packageAssetLibrariesBuildStage;
+
+    boolean isPackageAssetLibraries() {
+      if (packageAssetLibrariesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (packageAssetLibrariesBuildStage == STAGE_UNINITIALIZED) {
+        packageAssetLibrariesBuildStage = STAGE_INITIALIZING;
+        this.packageAssetLibraries = isPackageAssetLibrariesInitialize();
+        packageAssetLibrariesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.packageAssetLibraries;
+    }
+
+    void setPackageAssetLibraries(boolean packageAssetLibraries) {
+      this.packageAssetLibraries = packageAssetLibraries;
+      packageAssetLibrariesBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean compressAssetLibraries;
+    private int compressAssetLibrariesBuildStage;
+
+    boolean isCompressAssetLibraries() {
+      if (compressAssetLibrariesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (compressAssetLibrariesBuildStage == STAGE_UNINITIALIZED) {
+        compressAssetLibrariesBuildStage = STAGE_INITIALIZING;
+        this.compressAssetLibraries = isCompressAssetLibrariesInitialize();
+        compressAssetLibrariesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.compressAssetLibraries;
+    }
+
+    void setCompressAssetLibraries(boolean compressAssetLibraries) {
+      this.compressAssetLibraries = compressAssetLibraries;
+      compressAssetLibrariesBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean enableRelinker;
+    private int enableRelinkerBuildStage;
+
+    boolean isEnableRelinker() {
+      if (enableRelinkerBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (enableRelinkerBuildStage == STAGE_UNINITIALIZED) {
+        enableRelinkerBuildStage = STAGE_INITIALIZING;
+        this.enableRelinker = isEnableRelinkerInitialize();
+        enableRelinkerBuildStage = STAGE_INITIALIZED;
+      }
+      return this.enableRelinker;
+    }
+
+    void setEnableRelinker(boolean enableRelinker) {
+      this.enableRelinker = enableRelinker;
+      enableRelinkerBuildStage = STAGE_INITIALIZED;
+    }
+    private ManifestEntries manifestEntries;
+    private int manifestEntriesBuildStage;
+
+    ManifestEntries getManifestEntries() {
+      if (manifestEntriesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (manifestEntriesBuildStage == STAGE_UNINITIALIZED) {
+        manifestEntriesBuildStage = STAGE_INITIALIZING;
+        this.manifestEntries = Objects.requireNonNull(getManifestEntriesInitialize(), "manifestEntries");
+        manifestEntriesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.manifestEntries;
+    }
+
+    void setManifestEntries(ManifestEntries manifestEntries) {
+      this.manifestEntries = manifestEntries;
+      manifestEntriesBuildStage = STAGE_INITIALIZED;
+    }
+    private BuildConfigFields buildConfigValues;
+    private int buildConfigValuesBuildStage;
+
+    BuildConfigFields getBuildConfigValues() {
+      if (buildConfigValuesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildConfigValuesBuildStage == STAGE_UNINITIALIZED) {
+        buildConfigValuesBuildStage = STAGE_INITIALIZING;
+        this.buildConfigValues = Objects.requireNonNull(getBuildConfigValuesInitialize(), "buildConfigValues");
+        buildConfigValuesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildConfigValues;
+    }
+
+    void setBuildConfigValues(BuildConfigFields buildConfigValues) {
+      this.buildConfigValues = buildConfigValues;
+      buildConfigValuesBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean redex;
+    private int redexBuildStage;
+
+    boolean getRedex() {
+      if (redexBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (redexBuildStage == STAGE_UNINITIALIZED) {
+        redexBuildStage = STAGE_INITIALIZING;
+        this.redex = getRedexInitialize();
+        redexBuildStage = STAGE_INITIALIZED;
+      }
+      return this.redex;
+    }
+
+    void setRedex(boolean redex) {
+      this.redex = redex;
+      redexBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean skipProguard;
+    private int skipProguardBuildStage;
+
+    boolean isSkipProguard() {
+      if (skipProguardBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (skipProguardBuildStage == STAGE_UNINITIALIZED) {
+        skipProguardBuildStage = STAGE_INITIALIZING;
+        this.skipProguard = isSkipProguardInitialize();
+        skipProguardBuildStage = STAGE_INITIALIZED;
+      }
+      return this.skipProguard;
+    }
+
+    void setSkipProguard(boolean skipProguard) {
+      this.skipProguard = skipProguard;
+      skipProguardBuildStage = STAGE_INITIALIZED;
+    }
+    private EnumSet<RDotTxtEntry.RType> effectiveBannedDuplicateResourceTypes;
+    private int effectiveBannedDuplicateResourceTypesBuildStage;
+
+    EnumSet<RDotTxtEntry.RType> getEffectiveBannedDuplicateResourceTypes() {
+      if (effectiveBannedDuplicateResourceTypesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (effectiveBannedDuplicateResourceTypesBuildStage == STAGE_UNINITIALIZED) {
+        effectiveBannedDuplicateResourceTypesBuildStage = STAGE_INITIALIZING;
+        this.effectiveBannedDuplicateResourceTypes = Objects.requireNonNull(getEffectiveBannedDuplicateResourceTypesInitialize(), "effectiveBannedDuplicateResourceTypes");
+        effectiveBannedDuplicateResourceTypesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.effectiveBannedDuplicateResourceTypes;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (useSplitDexBuildStage == STAGE_INITIALIZING) attributes.add("useSplitDex");
+      if (minimizePrimaryDexSizeBuildStage == STAGE_INITIALIZING) attributes.add("minimizePrimaryDexSize");
+      if (disablePreDexBuildStage == STAGE_INITIALIZING) attributes.add("disablePreDex");
+      if (resourceCompressionBuildStage == STAGE_INITIALIZING) attributes.add("resourceCompression");
+      if (skipCrunchPngsBuildStage == STAGE_INITIALIZING) attributes.add("skipCrunchPngs");
+      if (includesVectorDrawablesBuildStage == STAGE_INITIALIZING) attributes.add("includesVectorDrawables");
+      if (noAutoVersionResourcesBuildStage == STAGE_INITIALIZING) attributes.add("noAutoVersionResources");
+      if (primaryDexScenarioOverflowAllowedBuildStage == STAGE_INITIALIZING) attributes.add("primaryDexScenarioOverflowAllowed");
+      if (linearAllocHardLimitBuildStage == STAGE_INITIALIZING) attributes.add("linearAllocHardLimit");
+      if (isCacheableBuildStage == STAGE_INITIALIZING) attributes.add("isCacheable");
+      if (duplicateResourceBehaviorBuildStage == STAGE_INITIALIZING) attributes.add("duplicateResourceBehavior");
+      if (aaptModeBuildStage == STAGE_INITIALIZING) attributes.add("aaptMode");
+      if (trimResourceIdsBuildStage == STAGE_INITIALIZING) attributes.add("trimResourceIds");
+      if (buildStringSourceMapBuildStage == STAGE_INITIALIZING) attributes.add("buildStringSourceMap");
+      if (reorderClassesIntraDexBuildStage == STAGE_INITIALIZING) attributes.add("reorderClassesIntraDex");
+      if (packageAssetLibrariesBuildStage == STAGE_INITIALIZING) attributes.add("packageAssetLibraries");
+      if (compressAssetLibrariesBuildStage == STAGE_INITIALIZING) attributes.add("compressAssetLibraries");
+      if (enableRelinkerBuildStage == STAGE_INITIALIZING) attributes.add("enableRelinker");
+      if (manifestEntriesBuildStage == STAGE_INITIALIZING) attributes.add("manifestEntries");
+      if (buildConfigValuesBuildStage == STAGE_INITIALIZING) attributes.add("buildConfigValues");
+      if (redexBuildStage == STAGE_INITIALIZING) attributes.add("redex");
+      if (skipProguardBuildStage == STAGE_INITIALIZING) attributes.add("skipProguard");
+      if (effectiveBannedDuplicateResourceTypesBuildStage == STAGE_INITIALIZING) attributes.add("effectiveBannedDuplicateResourceTypes");
+      return "Cannot build AndroidBinaryDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private boolean getUseSplitDexInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.getUseSplitDex();
+  }
+
+  private boolean getMinimizePrimaryDexSizeInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.getMinimizePrimaryDexSize();
+  }
+
+  private boolean getDisablePreDexInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.getDisablePreDex();
+  }
+
+  private ResourcesFilter.ResourceCompressionMode getResourceCompressionInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.getResourceCompression();
+  }
+
+  private boolean isSkipCrunchPngsInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.isSkipCrunchPngs();
+  }
+
+  private boolean isIncludesVectorDrawablesInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.isIncludesVectorDrawables();
+  }
+
+  private boolean isNoAutoVersionResourcesInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.isNoAutoVersionResources();
+  }
+
+  private boolean isPrimaryDexScenarioOverflowAllowedInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.isPrimaryDexScenarioOverflowAllowed();
+  }
+
+  private long getLinearAllocHardLimitInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.getLinearAllocHardLimit();
+  }
+
+  private boolean getIsCacheableInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.getIsCacheable();
+  }
+
+  private AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.DuplicateResourceBehaviour getDuplicateResourceBehaviorInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.getDuplicateResourceBehavior();
+  }
+
+  private AndroidBinary.AaptMode getAaptModeInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.getAaptMode();
+  }
+
+  private boolean isTrimResourceIdsInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.isTrimResourceIds();
+  }
+
+  private boolean isBuildStringSourceMapInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.isBuildStringSourceMap();
+  }
+
+  private boolean isReorderClassesIntraDexInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.isReorderClassesIntraDex();
+  }
+
+  private boolean isPackageAssetLibrariesInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.isPackageAssetLibraries();
+  }
+
+  private boolean isCompressAssetLibrariesInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.isCompressAssetLibraries();
+  }
+
+  private boolean isEnableRelinkerInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.isEnableRelinker();
+  }
+
+  private ManifestEntries getManifestEntriesInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.getManifestEntries();
+  }
+
+  private BuildConfigFields getBuildConfigValuesInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.getBuildConfigValues();
+  }
+
+  private boolean getRedexInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.getRedex();
+  }
+
+  private boolean isSkipProguardInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.isSkipProguard();
+  }
+
+  private EnumSet<RDotTxtEntry.RType> getEffectiveBannedDuplicateResourceTypesInitialize() {
+    return AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.super.getEffectiveBannedDuplicateResourceTypes();
+  }
+
+  /**
+   * @return The value of the {@code manifest} attribute
+   */
+  @Override
+  public SourcePath getManifest() {
+    return manifest;
+  }
+
+  /**
+   * @return The value of the {@code keystore} attribute
+   */
+  @Override
+  public BuildTarget getKeystore() {
+    return keystore;
+  }
+
+  /**
+   * @return The value of the {@code packageType} attribute
+   */
+  @Override
+  public Optional<String> getPackageType() {
+    return Optional.ofNullable(packageType);
+  }
+
+  /**
+   * @return The value of the {@code noDx} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getNoDx() {
+    return noDx;
+  }
+
+  /**
+   * @return The value of the {@code useSplitDex} attribute
+   */
+  @Override
+  public boolean getUseSplitDex() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getUseSplitDex()
+        : this.useSplitDex;
+  }
+
+  /**
+   * @return The value of the {@code minimizePrimaryDexSize} attribute
+   */
+  @Override
+  public boolean getMinimizePrimaryDexSize() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMinimizePrimaryDexSize()
+        : this.minimizePrimaryDexSize;
+  }
+
+  /**
+   * @return The value of the {@code disablePreDex} attribute
+   */
+  @Override
+  public boolean getDisablePreDex() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDisablePreDex()
+        : this.disablePreDex;
+  }
+
+  /**
+   * @return The value of the {@code exopackage} attribute
+   */
+  @Override
+  public Optional<Boolean> isExopackage() {
+    return Optional.ofNullable(exopackage);
+  }
+
+  /**
+   * @return The value of the {@code exopackageModes} attribute
+   */
+  @Override
+  public ImmutableSet<ExopackageMode> getExopackageModes() {
+    return exopackageModes;
+  }
+
+  /**
+   * @return The value of the {@code dexCompression} attribute
+   */
+  @Override
+  public Optional<DexStore> getDexCompression() {
+    return Optional.ofNullable(dexCompression);
+  }
+
+  /**
+   * @return The value of the {@code androidSdkProguardConfig} attribute
+   */
+  @Override
+  public Optional<ProGuardObfuscateStep.SdkProguardType> getAndroidSdkProguardConfig() {
+    return Optional.ofNullable(androidSdkProguardConfig);
+  }
+
+  /**
+   * @return The value of the {@code optimizationPasses} attribute
+   */
+  @Override
+  public Optional<Integer> getOptimizationPasses() {
+    return Optional.ofNullable(optimizationPasses);
+  }
+
+  /**
+   * @return The value of the {@code proguardJvmArgs} attribute
+   */
+  @Override
+  public ImmutableList<String> getProguardJvmArgs() {
+    return proguardJvmArgs;
+  }
+
+  /**
+   * @return The value of the {@code proguardConfig} attribute
+   */
+  @Override
+  public Optional<SourcePath> getProguardConfig() {
+    return Optional.ofNullable(proguardConfig);
+  }
+
+  /**
+   * @return The value of the {@code resourceCompression} attribute
+   */
+  @Override
+  public ResourcesFilter.ResourceCompressionMode getResourceCompression() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getResourceCompression()
+        : this.resourceCompression;
+  }
+
+  /**
+   * @return The value of the {@code skipCrunchPngs} attribute
+   */
+  @Override
+  public boolean isSkipCrunchPngs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isSkipCrunchPngs()
+        : this.skipCrunchPngs;
+  }
+
+  /**
+   * @return The value of the {@code includesVectorDrawables} attribute
+   */
+  @Override
+  public boolean isIncludesVectorDrawables() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isIncludesVectorDrawables()
+        : this.includesVectorDrawables;
+  }
+
+  /**
+   * @return The value of the {@code noAutoVersionResources} attribute
+   */
+  @Override
+  public boolean isNoAutoVersionResources() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isNoAutoVersionResources()
+        : this.noAutoVersionResources;
+  }
+
+  /**
+   * @return The value of the {@code primaryDexPatterns} attribute
+   */
+  @Override
+  public ImmutableList<String> getPrimaryDexPatterns() {
+    return primaryDexPatterns;
+  }
+
+  /**
+   * @return The value of the {@code primaryDexClassesFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getPrimaryDexClassesFile() {
+    return Optional.ofNullable(primaryDexClassesFile);
+  }
+
+  /**
+   * @return The value of the {@code primaryDexScenarioFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getPrimaryDexScenarioFile() {
+    return Optional.ofNullable(primaryDexScenarioFile);
+  }
+
+  /**
+   * @return The value of the {@code primaryDexScenarioOverflowAllowed} attribute
+   */
+  @Override
+  public boolean isPrimaryDexScenarioOverflowAllowed() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isPrimaryDexScenarioOverflowAllowed()
+        : this.primaryDexScenarioOverflowAllowed;
+  }
+
+  /**
+   * @return The value of the {@code secondaryDexHeadClassesFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSecondaryDexHeadClassesFile() {
+    return Optional.ofNullable(secondaryDexHeadClassesFile);
+  }
+
+  /**
+   * @return The value of the {@code secondaryDexTailClassesFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSecondaryDexTailClassesFile() {
+    return Optional.ofNullable(secondaryDexTailClassesFile);
+  }
+
+  /**
+   * @return The value of the {@code applicationModuleTargets} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getApplicationModuleTargets() {
+    return applicationModuleTargets;
+  }
+
+  /**
+   * @return The value of the {@code androidAppModularityResult} attribute
+   */
+  @Override
+  public Optional<SourcePath> getAndroidAppModularityResult() {
+    return Optional.ofNullable(androidAppModularityResult);
+  }
+
+  /**
+   * @return The value of the {@code applicationModuleConfigs} attribute
+   */
+  @Override
+  public ImmutableMap<String, List<BuildTarget>> getApplicationModuleConfigs() {
+    return applicationModuleConfigs;
+  }
+
+  /**
+   * @return The value of the {@code linearAllocHardLimit} attribute
+   */
+  @Override
+  public long getLinearAllocHardLimit() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLinearAllocHardLimit()
+        : this.linearAllocHardLimit;
+  }
+
+  /**
+   * @return The value of the {@code resourceFilter} attribute
+   */
+  @Override
+  public ImmutableList<String> getResourceFilter() {
+    return resourceFilter;
+  }
+
+  /**
+   * @return The value of the {@code isCacheable} attribute
+   */
+  @Override
+  public boolean getIsCacheable() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getIsCacheable()
+        : this.isCacheable;
+  }
+
+  /**
+   * @return The value of the {@code duplicateResourceBehavior} attribute
+   */
+  @Override
+  public AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.DuplicateResourceBehaviour getDuplicateResourceBehavior() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDuplicateResourceBehavior()
+        : this.duplicateResourceBehavior;
+  }
+
+  /**
+   * @return The value of the {@code allowedDuplicateResourceTypes} attribute
+   */
+  @Override
+  public ImmutableSet<RDotTxtEntry.RType> getAllowedDuplicateResourceTypes() {
+    return allowedDuplicateResourceTypes;
+  }
+
+  /**
+   * @return The value of the {@code bannedDuplicateResourceTypes} attribute
+   */
+  @Override
+  public ImmutableSet<RDotTxtEntry.RType> getBannedDuplicateResourceTypes() {
+    return bannedDuplicateResourceTypes;
+  }
+
+  /**
+   * @return The value of the {@code aaptMode} attribute
+   */
+  @Override
+  public AndroidBinary.AaptMode getAaptMode() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAaptMode()
+        : this.aaptMode;
+  }
+
+  /**
+   * @return The value of the {@code trimResourceIds} attribute
+   */
+  @Override
+  public boolean isTrimResourceIds() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isTrimResourceIds()
+        : this.trimResourceIds;
+  }
+
+  /**
+   * @return The value of the {@code keepResourcePattern} attribute
+   */
+  @Override
+  public Optional<String> getKeepResourcePattern() {
+    return Optional.ofNullable(keepResourcePattern);
+  }
+
+  /**
+   * @return The value of the {@code resourceUnionPackage} attribute
+   */
+  @Override
+  public Optional<String> getResourceUnionPackage() {
+    return Optional.ofNullable(resourceUnionPackage);
+  }
+
+  /**
+   * @return The value of the {@code locales} attribute
+   */
+  @Override
+  public ImmutableSet<String> getLocales() {
+    return locales;
+  }
+
+  /**
+   * @return The value of the {@code buildStringSourceMap} attribute
+   */
+  @Override
+  public boolean isBuildStringSourceMap() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isBuildStringSourceMap()
+        : this.buildStringSourceMap;
+  }
+
+  /**
+   * @return The value of the {@code cpuFilters} attribute
+   */
+  @Override
+  public ImmutableSet<TargetCpuType> getCpuFilters() {
+    return cpuFilters;
+  }
+
+  /**
+   * @return The value of the {@code preprocessJavaClassesDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getPreprocessJavaClassesDeps() {
+    return preprocessJavaClassesDeps;
+  }
+
+  /**
+   * @return The value of the {@code preprocessJavaClassesBash} attribute
+   */
+  @Override
+  public Optional<String> getPreprocessJavaClassesBash() {
+    return Optional.ofNullable(preprocessJavaClassesBash);
+  }
+
+  /**
+   * @return The value of the {@code reorderClassesIntraDex} attribute
+   */
+  @Override
+  public boolean isReorderClassesIntraDex() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isReorderClassesIntraDex()
+        : this.reorderClassesIntraDex;
+  }
+
+  /**
+   * @return The value of the {@code dexReorderToolFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getDexReorderToolFile() {
+    return Optional.ofNullable(dexReorderToolFile);
+  }
+
+  /**
+   * @return The value of the {@code dexReorderDataDumpFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getDexReorderDataDumpFile() {
+    return Optional.ofNullable(dexReorderDataDumpFile);
+  }
+
+  /**
+   * @return The value of the {@code xzCompressionLevel} attribute
+   */
+  @Override
+  public Optional<Integer> getXzCompressionLevel() {
+    return Optional.ofNullable(xzCompressionLevel);
+  }
+
+  /**
+   * @return The value of the {@code packageAssetLibraries} attribute
+   */
+  @Override
+  public boolean isPackageAssetLibraries() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isPackageAssetLibraries()
+        : this.packageAssetLibraries;
+  }
+
+  /**
+   * @return The value of the {@code compressAssetLibraries} attribute
+   */
+  @Override
+  public boolean isCompressAssetLibraries() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isCompressAssetLibraries()
+        : this.compressAssetLibraries;
+  }
+
+  /**
+   * @return The value of the {@code nativeLibraryMergeMap} attribute
+   */
+  @Override
+  public ImmutableMap<String, List<Pattern>> getNativeLibraryMergeMap() {
+    return nativeLibraryMergeMap;
+  }
+
+  /**
+   * @return The value of the {@code nativeLibraryMergeGlue} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getNativeLibraryMergeGlue() {
+    return Optional.ofNullable(nativeLibraryMergeGlue);
+  }
+
+  /**
+   * @return The value of the {@code nativeLibraryMergeCodeGenerator} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getNativeLibraryMergeCodeGenerator() {
+    return Optional.ofNullable(nativeLibraryMergeCodeGenerator);
+  }
+
+  /**
+   * @return The value of the {@code nativeLibraryMergeLocalizedSymbols} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedSet<String>> getNativeLibraryMergeLocalizedSymbols() {
+    return Optional.ofNullable(nativeLibraryMergeLocalizedSymbols);
+  }
+
+  /**
+   * @return The value of the {@code nativeLibraryProguardConfigGenerator} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getNativeLibraryProguardConfigGenerator() {
+    return Optional.ofNullable(nativeLibraryProguardConfigGenerator);
+  }
+
+  /**
+   * @return The value of the {@code enableRelinker} attribute
+   */
+  @Override
+  public boolean isEnableRelinker() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isEnableRelinker()
+        : this.enableRelinker;
+  }
+
+  /**
+   * @return The value of the {@code relinkerWhitelist} attribute
+   */
+  @Override
+  public ImmutableList<Pattern> getRelinkerWhitelist() {
+    return relinkerWhitelist;
+  }
+
+  /**
+   * @return The value of the {@code manifestEntries} attribute
+   */
+  @Override
+  public ManifestEntries getManifestEntries() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getManifestEntries()
+        : this.manifestEntries;
+  }
+
+  /**
+   * @return The value of the {@code buildConfigValues} attribute
+   */
+  @Override
+  public BuildConfigFields getBuildConfigValues() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBuildConfigValues()
+        : this.buildConfigValues;
+  }
+
+  /**
+   * @return The value of the {@code redex} attribute
+   */
+  @Override
+  public boolean getRedex() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRedex()
+        : this.redex;
+  }
+
+  /**
+   * @return The value of the {@code redexConfig} attribute
+   */
+  @Override
+  public Optional<SourcePath> getRedexConfig() {
+    return Optional.ofNullable(redexConfig);
+  }
+
+  /**
+   * @return The value of the {@code redexExtraArgs} attribute
+   */
+  @Override
+  public ImmutableList<String> getRedexExtraArgs() {
+    return redexExtraArgs;
+  }
+
+  /**
+   * @return The value of the {@code postFilterResourcesCmd} attribute
+   */
+  @Override
+  public Optional<String> getPostFilterResourcesCmd() {
+    return Optional.ofNullable(postFilterResourcesCmd);
+  }
+
+  /**
+   * @return The value of the {@code buildConfigValuesFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getBuildConfigValuesFile() {
+    return Optional.ofNullable(buildConfigValuesFile);
+  }
+
+  /**
+   * @return The value of the {@code skipProguard} attribute
+   */
+  @Override
+  public boolean isSkipProguard() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isSkipProguard()
+        : this.skipProguard;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code effectiveBannedDuplicateResourceTypes} attribute
+   */
+  @Override
+  public EnumSet<RDotTxtEntry.RType> getEffectiveBannedDuplicateResourceTypes() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getEffectiveBannedDuplicateResourceTypes()
+        : this.effectiveBannedDuplicateResourceTypes;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getManifest() manifest} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for manifest
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withManifest(SourcePath value) {
+    if (this.manifest == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "manifest");
+    return new AndroidBinaryDescriptionArg(
+        newValue,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getKeystore() keystore} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for keystore
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withKeystore(BuildTarget value) {
+    if (this.keystore == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "keystore");
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        newValue,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPackageType() packageType} attribute.
+   * @param value The value for packageType
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withPackageType(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "packageType");
+    if (Objects.equals(this.packageType, newValue)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        newValue,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPackageType() packageType} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for packageType
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withPackageType(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.packageType, value)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        value,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNoDx() noDx}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withNoDx(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        newValue,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNoDx() noDx}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of noDx elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withNoDx(Iterable<? extends BuildTarget> elements) {
+    if (this.noDx == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        newValue,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getUseSplitDex() useSplitDex} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for useSplitDex
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withUseSplitDex(boolean value) {
+    if (this.useSplitDex == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        value,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getMinimizePrimaryDexSize() minimizePrimaryDexSize} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for minimizePrimaryDexSize
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withMinimizePrimaryDexSize(boolean value) {
+    if (this.minimizePrimaryDexSize == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        value,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDisablePreDex() disablePreDex} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for disablePreDex
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withDisablePreDex(boolean value) {
+    if (this.disablePreDex == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        value,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isExopackage() exopackage} attribute.
+   * @param value The value for exopackage
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withExopackage(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.exopackage, newValue)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        newValue,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isExopackage() exopackage} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for exopackage
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withExopackage(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.exopackage, value)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        value,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getExopackageModes() exopackageModes}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withExopackageModes(ExopackageMode... elements) {
+    ImmutableSet<ExopackageMode> newValue = Sets.immutableEnumSet(Arrays.asList(elements));
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        newValue,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getExopackageModes() exopackageModes}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exopackageModes elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withExopackageModes(Iterable<ExopackageMode> elements) {
+    if (this.exopackageModes == elements) return this;
+    ImmutableSet<ExopackageMode> newValue = Sets.immutableEnumSet(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        newValue,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDexCompression() dexCompression} attribute.
+   * @param value The value for dexCompression
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withDexCompression(DexStore value) {
+    @Nullable DexStore newValue = Objects.requireNonNull(value, "dexCompression");
+    if (this.dexCompression == newValue) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        newValue,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDexCompression() dexCompression} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for dexCompression
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withDexCompression(Optional<? extends DexStore> optional) {
+    @Nullable DexStore value = optional.orElse(null);
+    if (Objects.equals(this.dexCompression, value)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        value,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getAndroidSdkProguardConfig() androidSdkProguardConfig} attribute.
+   * @param value The value for androidSdkProguardConfig
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withAndroidSdkProguardConfig(ProGuardObfuscateStep.SdkProguardType value) {
+    @Nullable ProGuardObfuscateStep.SdkProguardType newValue = Objects.requireNonNull(value, "androidSdkProguardConfig");
+    if (this.androidSdkProguardConfig == newValue) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        newValue,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getAndroidSdkProguardConfig() androidSdkProguardConfig} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for androidSdkProguardConfig
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withAndroidSdkProguardConfig(Optional<? extends ProGuardObfuscateStep.SdkProguardType> optional) {
+    @Nullable ProGuardObfuscateStep.SdkProguardType value = optional.orElse(null);
+    if (Objects.equals(this.androidSdkProguardConfig, value)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        value,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getOptimizationPasses() optimizationPasses} attribute.
+   * @param value The value for optimizationPasses
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withOptimizationPasses(int value) {
+    @Nullable Integer newValue = value;
+    if (Objects.equals(this.optimizationPasses, newValue)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        newValue,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getOptimizationPasses() optimizationPasses} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for optimizationPasses
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withOptimizationPasses(Optional<Integer> optional) {
+    @Nullable Integer value = optional.orElse(null);
+    if (Objects.equals(this.optimizationPasses, value)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        value,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getProguardJvmArgs() proguardJvmArgs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withProguardJvmArgs(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        newValue,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getProguardJvmArgs() proguardJvmArgs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of proguardJvmArgs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withProguardJvmArgs(Iterable<String> elements) {
+    if (this.proguardJvmArgs == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        newValue,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getProguardConfig() proguardConfig} attribute.
+   * @param value The value for proguardConfig
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withProguardConfig(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "proguardConfig");
+    if (this.proguardConfig == newValue) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        newValue,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getProguardConfig() proguardConfig} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for proguardConfig
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withProguardConfig(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.proguardConfig == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        value,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getResourceCompression() resourceCompression} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for resourceCompression
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withResourceCompression(ResourcesFilter.ResourceCompressionMode value) {
+    if (this.resourceCompression == value) return this;
+    ResourcesFilter.ResourceCompressionMode newValue = Objects.requireNonNull(value, "resourceCompression");
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        newValue,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isSkipCrunchPngs() skipCrunchPngs} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for skipCrunchPngs
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withSkipCrunchPngs(boolean value) {
+    if (this.skipCrunchPngs == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        value,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isIncludesVectorDrawables() includesVectorDrawables} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for includesVectorDrawables
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withIncludesVectorDrawables(boolean value) {
+    if (this.includesVectorDrawables == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        value,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isNoAutoVersionResources() noAutoVersionResources} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for noAutoVersionResources
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withNoAutoVersionResources(boolean value) {
+    if (this.noAutoVersionResources == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        value,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPrimaryDexPatterns() primaryDexPatterns}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withPrimaryDexPatterns(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        newValue,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPrimaryDexPatterns() primaryDexPatterns}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of primaryDexPatterns elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withPrimaryDexPatterns(Iterable<String> elements) {
+    if (this.primaryDexPatterns == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        newValue,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPrimaryDexClassesFile() primaryDexClassesFile} attribute.
+   * @param value The value for primaryDexClassesFile
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withPrimaryDexClassesFile(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "primaryDexClassesFile");
+    if (this.primaryDexClassesFile == newValue) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        newValue,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPrimaryDexClassesFile() primaryDexClassesFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for primaryDexClassesFile
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withPrimaryDexClassesFile(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.primaryDexClassesFile == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        value,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPrimaryDexScenarioFile() primaryDexScenarioFile} attribute.
+   * @param value The value for primaryDexScenarioFile
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withPrimaryDexScenarioFile(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "primaryDexScenarioFile");
+    if (this.primaryDexScenarioFile == newValue) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        newValue,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPrimaryDexScenarioFile() primaryDexScenarioFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for primaryDexScenarioFile
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withPrimaryDexScenarioFile(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.primaryDexScenarioFile == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        value,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isPrimaryDexScenarioOverflowAllowed() primaryDexScenarioOverflowAllowed} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for primaryDexScenarioOverflowAllowed
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withPrimaryDexScenarioOverflowAllowed(boolean value) {
+    if (this.primaryDexScenarioOverflowAllowed == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        value,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getSecondaryDexHeadClassesFile() secondaryDexHeadClassesFile} attribute.
+   * @param value The value for secondaryDexHeadClassesFile
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withSecondaryDexHeadClassesFile(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "secondaryDexHeadClassesFile");
+    if (this.secondaryDexHeadClassesFile == newValue) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        newValue,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getSecondaryDexHeadClassesFile() secondaryDexHeadClassesFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for secondaryDexHeadClassesFile
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withSecondaryDexHeadClassesFile(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.secondaryDexHeadClassesFile == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        value,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getSecondaryDexTailClassesFile() secondaryDexTailClassesFile} attribute.
+   * @param value The value for secondaryDexTailClassesFile
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withSecondaryDexTailClassesFile(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "secondaryDexTailClassesFile");
+    if (this.secondaryDexTailClassesFile == newValue) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        newValue,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getSecondaryDexTailClassesFile() secondaryDexTailClassesFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for secondaryDexTailClassesFile
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withSecondaryDexTailClassesFile(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.secondaryDexTailClassesFile == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        value,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getApplicationModuleTargets() applicationModuleTargets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withApplicationModuleTargets(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        newValue,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getApplicationModuleTargets() applicationModuleTargets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of applicationModuleTargets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withApplicationModuleTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.applicationModuleTargets == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        newValue,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getAndroidAppModularityResult() androidAppModularityResult} attribute.
+   * @param value The value for androidAppModularityResult
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withAndroidAppModularityResult(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "androidAppModularityResult");
+    if (this.androidAppModularityResult == newValue) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        newValue,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getAndroidAppModularityResult() androidAppModularityResult} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for androidAppModularityResult
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withAndroidAppModularityResult(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.androidAppModularityResult == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        value,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the applicationModuleConfigs map
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withApplicationModuleConfigs(Map<String, ? extends List<BuildTarget>> entries) {
+    if (this.applicationModuleConfigs == entries) return this;
+    ImmutableMap<String, List<BuildTarget>> newValue = ImmutableMap.copyOf(entries);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        newValue,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLinearAllocHardLimit() linearAllocHardLimit} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for linearAllocHardLimit
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withLinearAllocHardLimit(long value) {
+    if (this.linearAllocHardLimit == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        value,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getResourceFilter() resourceFilter}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withResourceFilter(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        newValue,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getResourceFilter() resourceFilter}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of resourceFilter elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withResourceFilter(Iterable<String> elements) {
+    if (this.resourceFilter == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        newValue,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getIsCacheable() isCacheable} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for isCacheable
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withIsCacheable(boolean value) {
+    if (this.isCacheable == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        value,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDuplicateResourceBehavior() duplicateResourceBehavior} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for duplicateResourceBehavior
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withDuplicateResourceBehavior(AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.DuplicateResourceBehaviour value) {
+    if (this.duplicateResourceBehavior == value) return this;
+    AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.DuplicateResourceBehaviour newValue = Objects.requireNonNull(value, "duplicateResourceBehavior");
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        newValue,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getAllowedDuplicateResourceTypes() allowedDuplicateResourceTypes}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withAllowedDuplicateResourceTypes(RDotTxtEntry.RType... elements) {
+    ImmutableSet<RDotTxtEntry.RType> newValue = Sets.immutableEnumSet(Arrays.asList(elements));
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        newValue,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getAllowedDuplicateResourceTypes() allowedDuplicateResourceTypes}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of allowedDuplicateResourceTypes elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withAllowedDuplicateResourceTypes(Iterable<RDotTxtEntry.RType> elements) {
+    if (this.allowedDuplicateResourceTypes == elements) return this;
+    ImmutableSet<RDotTxtEntry.RType> newValue = Sets.immutableEnumSet(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        newValue,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getBannedDuplicateResourceTypes() bannedDuplicateResourceTypes}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withBannedDuplicateResourceTypes(RDotTxtEntry.RType... elements) {
+    ImmutableSet<RDotTxtEntry.RType> newValue = Sets.immutableEnumSet(Arrays.asList(elements));
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        newValue,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getBannedDuplicateResourceTypes() bannedDuplicateResourceTypes}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of bannedDuplicateResourceTypes elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withBannedDuplicateResourceTypes(Iterable<RDotTxtEntry.RType> elements) {
+    if (this.bannedDuplicateResourceTypes == elements) return this;
+    ImmutableSet<RDotTxtEntry.RType> newValue = Sets.immutableEnumSet(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        newValue,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getAaptMode() aaptMode} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for aaptMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withAaptMode(AndroidBinary.AaptMode value) {
+    if (this.aaptMode == value) return this;
+    AndroidBinary.AaptMode newValue = Objects.requireNonNull(value, "aaptMode");
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        newValue,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isTrimResourceIds() trimResourceIds} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for trimResourceIds
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withTrimResourceIds(boolean value) {
+    if (this.trimResourceIds == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        value,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getKeepResourcePattern() keepResourcePattern} attribute.
+   * @param value The value for keepResourcePattern
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withKeepResourcePattern(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "keepResourcePattern");
+    if (Objects.equals(this.keepResourcePattern, newValue)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        newValue,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getKeepResourcePattern() keepResourcePattern} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for keepResourcePattern
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withKeepResourcePattern(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.keepResourcePattern, value)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        value,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getResourceUnionPackage() resourceUnionPackage} attribute.
+   * @param value The value for resourceUnionPackage
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withResourceUnionPackage(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "resourceUnionPackage");
+    if (Objects.equals(this.resourceUnionPackage, newValue)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        newValue,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getResourceUnionPackage() resourceUnionPackage} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for resourceUnionPackage
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withResourceUnionPackage(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.resourceUnionPackage, value)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        value,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLocales() locales}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withLocales(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        newValue,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLocales() locales}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of locales elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withLocales(Iterable<String> elements) {
+    if (this.locales == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        newValue,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isBuildStringSourceMap() buildStringSourceMap} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildStringSourceMap
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withBuildStringSourceMap(boolean value) {
+    if (this.buildStringSourceMap == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        value,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getCpuFilters() cpuFilters}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withCpuFilters(TargetCpuType... elements) {
+    ImmutableSet<TargetCpuType> newValue = Sets.immutableEnumSet(Arrays.asList(elements));
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        newValue,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getCpuFilters() cpuFilters}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cpuFilters elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withCpuFilters(Iterable<TargetCpuType> elements) {
+    if (this.cpuFilters == elements) return this;
+    ImmutableSet<TargetCpuType> newValue = Sets.immutableEnumSet(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        newValue,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPreprocessJavaClassesDeps() preprocessJavaClassesDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withPreprocessJavaClassesDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        newValue,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPreprocessJavaClassesDeps() preprocessJavaClassesDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of preprocessJavaClassesDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withPreprocessJavaClassesDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.preprocessJavaClassesDeps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        newValue,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPreprocessJavaClassesBash() preprocessJavaClassesBash} attribute.
+   * @param value The value for preprocessJavaClassesBash
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withPreprocessJavaClassesBash(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "preprocessJavaClassesBash");
+    if (Objects.equals(this.preprocessJavaClassesBash, newValue)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        newValue,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPreprocessJavaClassesBash() preprocessJavaClassesBash} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for preprocessJavaClassesBash
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withPreprocessJavaClassesBash(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.preprocessJavaClassesBash, value)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        value,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isReorderClassesIntraDex() reorderClassesIntraDex} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for reorderClassesIntraDex
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withReorderClassesIntraDex(boolean value) {
+    if (this.reorderClassesIntraDex == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        value,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDexReorderToolFile() dexReorderToolFile} attribute.
+   * @param value The value for dexReorderToolFile
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withDexReorderToolFile(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "dexReorderToolFile");
+    if (this.dexReorderToolFile == newValue) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        newValue,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDexReorderToolFile() dexReorderToolFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for dexReorderToolFile
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withDexReorderToolFile(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.dexReorderToolFile == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        value,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDexReorderDataDumpFile() dexReorderDataDumpFile} attribute.
+   * @param value The value for dexReorderDataDumpFile
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withDexReorderDataDumpFile(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "dexReorderDataDumpFile");
+    if (this.dexReorderDataDumpFile == newValue) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        newValue,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDexReorderDataDumpFile() dexReorderDataDumpFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for dexReorderDataDumpFile
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withDexReorderDataDumpFile(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.dexReorderDataDumpFile == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        value,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getXzCompressionLevel() xzCompressionLevel} attribute.
+   * @param value The value for xzCompressionLevel
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withXzCompressionLevel(int value) {
+    @Nullable Integer newValue = value;
+    if (Objects.equals(this.xzCompressionLevel, newValue)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        newValue,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getXzCompressionLevel() xzCompressionLevel} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for xzCompressionLevel
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withXzCompressionLevel(Optional<Integer> optional) {
+    @Nullable Integer value = optional.orElse(null);
+    if (Objects.equals(this.xzCompressionLevel, value)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        value,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isPackageAssetLibraries() packageAssetLibraries} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for packageAssetLibraries
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withPackageAssetLibraries(boolean value) {
+    if (this.packageAssetLibraries == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        value,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isCompressAssetLibraries() compressAssetLibraries} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for compressAssetLibraries
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withCompressAssetLibraries(boolean value) {
+    if (this.compressAssetLibraries == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        value,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryMergeMap() nativeLibraryMergeMap} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the nativeLibraryMergeMap map
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withNativeLibraryMergeMap(Map<String, ? extends List<Pattern>> entries) {
+    if (this.nativeLibraryMergeMap == entries) return this;
+    ImmutableMap<String, List<Pattern>> newValue = ImmutableMap.copyOf(entries);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        newValue,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryMergeGlue() nativeLibraryMergeGlue} attribute.
+   * @param value The value for nativeLibraryMergeGlue
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withNativeLibraryMergeGlue(BuildTarget value) {
+    @Nullable BuildTarget newValue = Objects.requireNonNull(value, "nativeLibraryMergeGlue");
+    if (this.nativeLibraryMergeGlue == newValue) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        newValue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryMergeGlue() nativeLibraryMergeGlue} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for nativeLibraryMergeGlue
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withNativeLibraryMergeGlue(Optional<? extends BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.nativeLibraryMergeGlue == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        value,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryMergeCodeGenerator() nativeLibraryMergeCodeGenerator} attribute.
+   * @param value The value for nativeLibraryMergeCodeGenerator
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withNativeLibraryMergeCodeGenerator(BuildTarget value) {
+    @Nullable BuildTarget newValue = Objects.requireNonNull(value, "nativeLibraryMergeCodeGenerator");
+    if (this.nativeLibraryMergeCodeGenerator == newValue) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        newValue,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryMergeCodeGenerator() nativeLibraryMergeCodeGenerator} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for nativeLibraryMergeCodeGenerator
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withNativeLibraryMergeCodeGenerator(Optional<? extends BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.nativeLibraryMergeCodeGenerator == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        value,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryMergeLocalizedSymbols() nativeLibraryMergeLocalizedSymbols} attribute.
+   * @param value The value for nativeLibraryMergeLocalizedSymbols
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withNativeLibraryMergeLocalizedSymbols(ImmutableSortedSet<String> value) {
+    @Nullable ImmutableSortedSet<String> newValue = Objects.requireNonNull(value, "nativeLibraryMergeLocalizedSymbols");
+    if (this.nativeLibraryMergeLocalizedSymbols == newValue) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        newValue,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryMergeLocalizedSymbols() nativeLibraryMergeLocalizedSymbols} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for nativeLibraryMergeLocalizedSymbols
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withNativeLibraryMergeLocalizedSymbols(Optional<? extends ImmutableSortedSet<String>> optional) {
+    @Nullable ImmutableSortedSet<String> value = optional.orElse(null);
+    if (this.nativeLibraryMergeLocalizedSymbols == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        value,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryProguardConfigGenerator() nativeLibraryProguardConfigGenerator} attribute.
+   * @param value The value for nativeLibraryProguardConfigGenerator
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withNativeLibraryProguardConfigGenerator(BuildTarget value) {
+    @Nullable BuildTarget newValue = Objects.requireNonNull(value, "nativeLibraryProguardConfigGenerator");
+    if (this.nativeLibraryProguardConfigGenerator == newValue) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        newValue,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryProguardConfigGenerator() nativeLibraryProguardConfigGenerator} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for nativeLibraryProguardConfigGenerator
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withNativeLibraryProguardConfigGenerator(Optional<? extends BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.nativeLibraryProguardConfigGenerator == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        value,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isEnableRelinker() enableRelinker} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for enableRelinker
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withEnableRelinker(boolean value) {
+    if (this.enableRelinker == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        value,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRelinkerWhitelist() relinkerWhitelist}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withRelinkerWhitelist(Pattern... elements) {
+    ImmutableList<Pattern> newValue = ImmutableList.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        newValue,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRelinkerWhitelist() relinkerWhitelist}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of relinkerWhitelist elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withRelinkerWhitelist(Iterable<? extends Pattern> elements) {
+    if (this.relinkerWhitelist == elements) return this;
+    ImmutableList<Pattern> newValue = ImmutableList.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        newValue,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getManifestEntries() manifestEntries} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for manifestEntries
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withManifestEntries(ManifestEntries value) {
+    if (this.manifestEntries == value) return this;
+    ManifestEntries newValue = Objects.requireNonNull(value, "manifestEntries");
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        newValue,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getBuildConfigValues() buildConfigValues} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildConfigValues
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withBuildConfigValues(BuildConfigFields value) {
+    if (this.buildConfigValues == value) return this;
+    BuildConfigFields newValue = Objects.requireNonNull(value, "buildConfigValues");
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        newValue,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRedex() redex} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for redex
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withRedex(boolean value) {
+    if (this.redex == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        value,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRedexConfig() redexConfig} attribute.
+   * @param value The value for redexConfig
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withRedexConfig(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "redexConfig");
+    if (this.redexConfig == newValue) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        newValue,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRedexConfig() redexConfig} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for redexConfig
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withRedexConfig(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.redexConfig == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        value,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRedexExtraArgs() redexExtraArgs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withRedexExtraArgs(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        newValue,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRedexExtraArgs() redexExtraArgs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of redexExtraArgs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withRedexExtraArgs(Iterable<String> elements) {
+    if (this.redexExtraArgs == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        newValue,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPostFilterResourcesCmd() postFilterResourcesCmd} attribute.
+   * @param value The value for postFilterResourcesCmd
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withPostFilterResourcesCmd(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "postFilterResourcesCmd");
+    if (Objects.equals(this.postFilterResourcesCmd, newValue)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        newValue,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPostFilterResourcesCmd() postFilterResourcesCmd} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for postFilterResourcesCmd
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withPostFilterResourcesCmd(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.postFilterResourcesCmd, value)) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        value,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getBuildConfigValuesFile() buildConfigValuesFile} attribute.
+   * @param value The value for buildConfigValuesFile
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withBuildConfigValuesFile(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "buildConfigValuesFile");
+    if (this.buildConfigValuesFile == newValue) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        newValue,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getBuildConfigValuesFile() buildConfigValuesFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for buildConfigValuesFile
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withBuildConfigValuesFile(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.buildConfigValuesFile == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        value,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isSkipProguard() skipProguard} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for skipProguard
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withSkipProguard(boolean value) {
+    if (this.skipProguard == value) return this;
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getTests() tests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getTests() tests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of tests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidBinaryDescriptionArg withTests(Iterable<? extends BuildTarget> elements) {
+    if (this.tests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new AndroidBinaryDescriptionArg(
+        this.manifest,
+        this.keystore,
+        this.packageType,
+        this.noDx,
+        this.useSplitDex,
+        this.minimizePrimaryDexSize,
+        this.disablePreDex,
+        this.exopackage,
+        this.exopackageModes,
+        this.dexCompression,
+        this.androidSdkProguardConfig,
+        this.optimizationPasses,
+        this.proguardJvmArgs,
+        this.proguardConfig,
+        this.resourceCompression,
+        this.skipCrunchPngs,
+        this.includesVectorDrawables,
+        this.noAutoVersionResources,
+        this.primaryDexPatterns,
+        this.primaryDexClassesFile,
+        this.primaryDexScenarioFile,
+        this.primaryDexScenarioOverflowAllowed,
+        this.secondaryDexHeadClassesFile,
+        this.secondaryDexTailClassesFile,
+        this.applicationModuleTargets,
+        this.androidAppModularityResult,
+        this.applicationModuleConfigs,
+        this.linearAllocHardLimit,
+        this.resourceFilter,
+        this.isCacheable,
+        this.duplicateResourceBehavior,
+        this.allowedDuplicateResourceTypes,
+        this.bannedDuplicateResourceTypes,
+        this.aaptMode,
+        this.trimResourceIds,
+        this.keepResourcePattern,
+        this.resourceUnionPackage,
+        this.locales,
+        this.buildStringSourceMap,
+        this.cpuFilters,
+        this.preprocessJavaClassesDeps,
+        this.preprocessJavaClassesBash,
+        this.reorderClassesIntraDex,
+        this.dexReorderToolFile,
+        this.dexReorderDataDumpFile,
+        this.xzCompressionLevel,
+        this.packageAssetLibraries,
+        this.compressAssetLibraries,
+        this.nativeLibraryMergeMap,
+        this.nativeLibraryMergeGlue,
+        this.nativeLibraryMergeCodeGenerator,
+        this.nativeLibraryMergeLocalizedSymbols,
+        this.nativeLibraryProguardConfigGenerator,
+        this.enableRelinker,
+        this.relinkerWhitelist,
+        this.manifestEntries,
+        this.buildConfigValues,
+        this.redex,
+        this.redexConfig,
+        this.redexExtraArgs,
+        this.postFilterResourcesCmd,
+        this.buildConfigValuesFile,
+        this.skipProguard,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidBinaryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidBinaryDescriptionArg
+        && equalTo((AndroidBinaryDescriptionArg) another);
+  }
+
+  private boolean equalTo(AndroidBinaryDescriptionArg another) {
+    return manifest.equals(another.manifest)
+        && keystore.equals(another.keystore)
+        && Objects.equals(packageType, another.packageType)
+        && noDx.equals(another.noDx)
+        && useSplitDex == another.useSplitDex
+        && minimizePrimaryDexSize == another.minimizePrimaryDexSize
+        && disablePreDex == another.disablePreDex
+        && Objects.equals(exopackage, another.exopackage)
+        && exopackageModes.equals(another.exopackageModes)
+        && Objects.equals(dexCompression, another.dexCompression)
+        && Objects.equals(androidSdkProguardConfig, another.androidSdkProguardConfig)
+        && Objects.equals(optimizationPasses, another.optimizationPasses)
+        && proguardJvmArgs.equals(another.proguardJvmArgs)
+        && Objects.equals(proguardConfig, another.proguardConfig)
+        && resourceCompression.equals(another.resourceCompression)
+        && skipCrunchPngs == another.skipCrunchPngs
+        && includesVectorDrawables == another.includesVectorDrawables
+        && noAutoVersionResources == another.noAutoVersionResources
+        && primaryDexPatterns.equals(another.primaryDexPatterns)
+        && Objects.equals(primaryDexClassesFile, another.primaryDexClassesFile)
+        && Objects.equals(primaryDexScenarioFile, another.primaryDexScenarioFile)
+        && primaryDexScenarioOverflowAllowed == another.primaryDexScenarioOverflowAllowed
+        && Objects.equals(secondaryDexHeadClassesFile, another.secondaryDexHeadClassesFile)
+        && Objects.equals(secondaryDexTailClassesFile, another.secondaryDexTailClassesFile)
+        && applicationModuleTargets.equals(another.applicationModuleTargets)
+        && Objects.equals(androidAppModularityResult, another.androidAppModularityResult)
+        && applicationModuleConfigs.equals(another.applicationModuleConfigs)
+        && linearAllocHardLimit == another.linearAllocHardLimit
+        && resourceFilter.equals(another.resourceFilter)
+        && isCacheable == another.isCacheable
+        && duplicateResourceBehavior.equals(another.duplicateResourceBehavior)
+        && allowedDuplicateResourceTypes.equals(another.allowedDuplicateResourceTypes)
+        && bannedDuplicateResourceTypes.equals(another.bannedDuplicateResourceTypes)
+        && aaptMode.equals(another.aaptMode)
+        && trimResourceIds == another.trimResourceIds
+        && Objects.equals(keepResourcePattern, another.keepResourcePattern)
+        && Objects.equals(resourceUnionPackage, another.resourceUnionPackage)
+        && locales.equals(another.locales)
+        && buildStringSourceMap == another.buildStringSourceMap
+        && cpuFilters.equals(another.cpuFilters)
+        && preprocessJavaClassesDeps.equals(another.preprocessJavaClassesDeps)
+        && Objects.equals(preprocessJavaClassesBash, another.preprocessJavaClassesBash)
+        && reorderClassesIntraDex == another.reorderClassesIntraDex
+        && Objects.equals(dexReorderToolFile, another.dexReorderToolFile)
+        && Objects.equals(dexReorderDataDumpFile, another.dexReorderDataDumpFile)
+        && Objects.equals(xzCompressionLevel, another.xzCompressionLevel)
+        && packageAssetLibraries == another.packageAssetLibraries
+        && compressAssetLibraries == another.compressAssetLibraries
+        && nativeLibraryMergeMap.equals(another.nativeLibraryMergeMap)
+        && Objects.equals(nativeLibraryMergeGlue, another.nativeLibraryMergeGlue)
+        && Objects.equals(nativeLibraryMergeCodeGenerator, another.nativeLibraryMergeCodeGenerator)
+        && Objects.equals(nativeLibraryMergeLocalizedSymbols, another.nativeLibraryMergeLocalizedSymbols)
+        && Objects.equals(nativeLibraryProguardConfigGenerator, another.nativeLibraryProguardConfigGenerator)
+        && enableRelinker == another.enableRelinker
+        && relinkerWhitelist.equals(another.relinkerWhitelist)
+        && manifestEntries.equals(another.manifestEntries)
+        && buildConfigValues.equals(another.buildConfigValues)
+        && redex == another.redex
+        && Objects.equals(redexConfig, another.redexConfig)
+        && redexExtraArgs.equals(another.redexExtraArgs)
+        && Objects.equals(postFilterResourcesCmd, another.postFilterResourcesCmd)
+        && Objects.equals(buildConfigValuesFile, another.buildConfigValuesFile)
+        && skipProguard == another.skipProguard
+        && effectiveBannedDuplicateResourceTypes.equals(another.effectiveBannedDuplicateResourceTypes)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && tests.equals(another.tests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code manifest}, {@code keystore}, {@code packageType}, {@code noDx}, {@code useSplitDex}, {@code minimizePrimaryDexSize}, {@code disablePreDex}, {@code exopackage}, {@code exopackageModes}, {@code dexCompression}, {@code androidSdkProguardConfig}, {@code optimizationPasses}, {@code proguardJvmArgs}, {@code proguardConfig}, {@code resourceCompression}, {@code skipCrunchPngs}, {@code includesVectorDrawables}, {@code noAutoVersionResources}, {@code primaryDexPatterns}, {@code primaryDexClassesFile}, {@code primaryDexScenarioFile}, {@code primaryDexScenarioOverflowAllowed}, {@code secondaryDexHeadClassesFile}, {@code secondaryDexTailClassesFile}, {@code applicationModuleTargets}, {@code androidAppModularityResult}, {@code applicationModuleConfigs}, {@code linearAllocHardLimit}, {@code resourceFilter}, {@code isCacheable}, {@code duplicateResourceBehavior}, {@code allowedDuplicateResourceTypes}, {@code bannedDuplicateResourceTypes}, {@code aaptMode}, {@code trimResourceIds}, {@code keepResourcePattern}, {@code resourceUnionPackage}, {@code locales}, {@code buildStringSourceMap}, {@code cpuFilters}, {@code preprocessJavaClassesDeps}, {@code preprocessJavaClassesBash}, {@code reorderClassesIntraDex}, {@code dexReorderToolFile}, {@code dexReorderDataDumpFile}, {@code xzCompressionLevel}, {@code packageAssetLibraries}, {@code compressAssetLibraries}, {@code nativeLibraryMergeMap}, {@code nativeLibraryMergeGlue}, {@code nativeLibraryMergeCodeGenerator}, {@code nativeLibraryMergeLocalizedSymbols}, {@code nativeLibraryProguardConfigGenerator}, {@code enableRelinker}, {@code relinkerWhitelist}, {@code manifestEntries}, {@code buildConfigValues}, {@code redex}, {@code redexConfig}, {@code redexExtraArgs}, {@code postFilterResourcesCmd}, {@code buildConfigValuesFile}, {@code skipProguard}, {@code effectiveBannedDuplicateResourceTypes}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code tests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + manifest.hashCode();
+    h += (h << 5) + keystore.hashCode();
+    h += (h << 5) + Objects.hashCode(packageType);
+    h += (h << 5) + noDx.hashCode();
+    h += (h << 5) + Booleans.hashCode(useSplitDex);
+    h += (h << 5) + Booleans.hashCode(minimizePrimaryDexSize);
+    h += (h << 5) + Booleans.hashCode(disablePreDex);
+    h += (h << 5) + Objects.hashCode(exopackage);
+    h += (h << 5) + exopackageModes.hashCode();
+    h += (h << 5) + Objects.hashCode(dexCompression);
+    h += (h << 5) + Objects.hashCode(androidSdkProguardConfig);
+    h += (h << 5) + Objects.hashCode(optimizationPasses);
+    h += (h << 5) + proguardJvmArgs.hashCode();
+    h += (h << 5) + Objects.hashCode(proguardConfig);
+    h += (h << 5) + resourceCompression.hashCode();
+    h += (h << 5) + Booleans.hashCode(skipCrunchPngs);
+    h += (h << 5) + Booleans.hashCode(includesVectorDrawables);
+    h += (h << 5) + Booleans.hashCode(noAutoVersionResources);
+    h += (h << 5) + primaryDexPatterns.hashCode();
+    h += (h << 5) + Objects.hashCode(primaryDexClassesFile);
+    h += (h << 5) + Objects.hashCode(primaryDexScenarioFile);
+    h += (h << 5) + Booleans.hashCode(primaryDexScenarioOverflowAllowed);
+    h += (h << 5) + Objects.hashCode(secondaryDexHeadClassesFile);
+    h += (h << 5) + Objects.hashCode(secondaryDexTailClassesFile);
+    h += (h << 5) + applicationModuleTargets.hashCode();
+    h += (h << 5) + Objects.hashCode(androidAppModularityResult);
+    h += (h << 5) + applicationModuleConfigs.hashCode();
+    h += (h << 5) + Longs.hashCode(linearAllocHardLimit);
+    h += (h << 5) + resourceFilter.hashCode();
+    h += (h << 5) + Booleans.hashCode(isCacheable);
+    h += (h << 5) + duplicateResourceBehavior.hashCode();
+    h += (h << 5) + allowedDuplicateResourceTypes.hashCode();
+    h += (h << 5) + bannedDuplicateResourceTypes.hashCode();
+    h += (h << 5) + aaptMode.hashCode();
+    h += (h << 5) + Booleans.hashCode(trimResourceIds);
+    h += (h << 5) + Objects.hashCode(keepResourcePattern);
+    h += (h << 5) + Objects.hashCode(resourceUnionPackage);
+    h += (h << 5) + locales.hashCode();
+    h += (h << 5) + Booleans.hashCode(buildStringSourceMap);
+    h += (h << 5) + cpuFilters.hashCode();
+    h += (h << 5) + preprocessJavaClassesDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(preprocessJavaClassesBash);
+    h += (h << 5) + Booleans.hashCode(reorderClassesIntraDex);
+    h += (h << 5) + Objects.hashCode(dexReorderToolFile);
+    h += (h << 5) + Objects.hashCode(dexReorderDataDumpFile);
+    h += (h << 5) + Objects.hashCode(xzCompressionLevel);
+    h += (h << 5) + Booleans.hashCode(packageAssetLibraries);
+    h += (h << 5) + Booleans.hashCode(compressAssetLibraries);
+    h += (h << 5) + nativeLibraryMergeMap.hashCode();
+    h += (h << 5) + Objects.hashCode(nativeLibraryMergeGlue);
+    h += (h << 5) + Objects.hashCode(nativeLibraryMergeCodeGenerator);
+    h += (h << 5) + Objects.hashCode(nativeLibraryMergeLocalizedSymbols);
+    h += (h << 5) + Objects.hashCode(nativeLibraryProguardConfigGenerator);
+    h += (h << 5) + Booleans.hashCode(enableRelinker);
+    h += (h << 5) + relinkerWhitelist.hashCode();
+    h += (h << 5) + manifestEntries.hashCode();
+    h += (h << 5) + buildConfigValues.hashCode();
+    h += (h << 5) + Booleans.hashCode(redex);
+    h += (h << 5) + Objects.hashCode(redexConfig);
+    h += (h << 5) + redexExtraArgs.hashCode();
+    h += (h << 5) + Objects.hashCode(postFilterResourcesCmd);
+    h += (h << 5) + Objects.hashCode(buildConfigValuesFile);
+    h += (h << 5) + Booleans.hashCode(skipProguard);
+    h += (h << 5) + effectiveBannedDuplicateResourceTypes.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + tests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidBinaryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidBinaryDescriptionArg")
+        .omitNullValues()
+        .add("manifest", manifest)
+        .add("keystore", keystore)
+        .add("packageType", packageType)
+        .add("noDx", noDx)
+        .add("useSplitDex", useSplitDex)
+        .add("minimizePrimaryDexSize", minimizePrimaryDexSize)
+        .add("disablePreDex", disablePreDex)
+        .add("exopackage", exopackage)
+        .add("exopackageModes", exopackageModes)
+        .add("dexCompression", dexCompression)
+        .add("androidSdkProguardConfig", androidSdkProguardConfig)
+        .add("optimizationPasses", optimizationPasses)
+        .add("proguardJvmArgs", proguardJvmArgs)
+        .add("proguardConfig", proguardConfig)
+        .add("resourceCompression", resourceCompression)
+        .add("skipCrunchPngs", skipCrunchPngs)
+        .add("includesVectorDrawables", includesVectorDrawables)
+        .add("noAutoVersionResources", noAutoVersionResources)
+        .add("primaryDexPatterns", primaryDexPatterns)
+        .add("primaryDexClassesFile", primaryDexClassesFile)
+        .add("primaryDexScenarioFile", primaryDexScenarioFile)
+        .add("primaryDexScenarioOverflowAllowed", primaryDexScenarioOverflowAllowed)
+        .add("secondaryDexHeadClassesFile", secondaryDexHeadClassesFile)
+        .add("secondaryDexTailClassesFile", secondaryDexTailClassesFile)
+        .add("applicationModuleTargets", applicationModuleTargets)
+        .add("androidAppModularityResult", androidAppModularityResult)
+        .add("applicationModuleConfigs", applicationModuleConfigs)
+        .add("linearAllocHardLimit", linearAllocHardLimit)
+        .add("resourceFilter", resourceFilter)
+        .add("isCacheable", isCacheable)
+        .add("duplicateResourceBehavior", duplicateResourceBehavior)
+        .add("allowedDuplicateResourceTypes", allowedDuplicateResourceTypes)
+        .add("bannedDuplicateResourceTypes", bannedDuplicateResourceTypes)
+        .add("aaptMode", aaptMode)
+        .add("trimResourceIds", trimResourceIds)
+        .add("keepResourcePattern", keepResourcePattern)
+        .add("resourceUnionPackage", resourceUnionPackage)
+        .add("locales", locales)
+        .add("buildStringSourceMap", buildStringSourceMap)
+        .add("cpuFilters", cpuFilters)
+        .add("preprocessJavaClassesDeps", preprocessJavaClassesDeps)
+        .add("preprocessJavaClassesBash", preprocessJavaClassesBash)
+        .add("reorderClassesIntraDex", reorderClassesIntraDex)
+        .add("dexReorderToolFile", dexReorderToolFile)
+        .add("dexReorderDataDumpFile", dexReorderDataDumpFile)
+        .add("xzCompressionLevel", xzCompressionLevel)
+        .add("packageAssetLibraries", packageAssetLibraries)
+        .add("compressAssetLibraries", compressAssetLibraries)
+        .add("nativeLibraryMergeMap", nativeLibraryMergeMap)
+        .add("nativeLibraryMergeGlue", nativeLibraryMergeGlue)
+        .add("nativeLibraryMergeCodeGenerator", nativeLibraryMergeCodeGenerator)
+        .add("nativeLibraryMergeLocalizedSymbols", nativeLibraryMergeLocalizedSymbols)
+        .add("nativeLibraryProguardConfigGenerator", nativeLibraryProguardConfigGenerator)
+        .add("enableRelinker", enableRelinker)
+        .add("relinkerWhitelist", relinkerWhitelist)
+        .add("manifestEntries", manifestEntries)
+        .add("buildConfigValues", buildConfigValues)
+        .add("redex", redex)
+        .add("redexConfig", redexConfig)
+        .add("redexExtraArgs", redexExtraArgs)
+        .add("postFilterResourcesCmd", postFilterResourcesCmd)
+        .add("buildConfigValuesFile", buildConfigValuesFile)
+        .add("skipProguard", skipProguard)
+        .add("effectiveBannedDuplicateResourceTypes", effectiveBannedDuplicateResourceTypes)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("tests", tests)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AndroidBinaryDescriptionArg instance
+   */
+  static AndroidBinaryDescriptionArg copyOf(AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg instance) {
+    if (instance instanceof AndroidBinaryDescriptionArg) {
+      return (AndroidBinaryDescriptionArg) instance;
+    }
+    return AndroidBinaryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidBinaryDescriptionArg AndroidBinaryDescriptionArg}.
+   * @return A new AndroidBinaryDescriptionArg builder
+   */
+  public static AndroidBinaryDescriptionArg.Builder builder() {
+    return new AndroidBinaryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidBinaryDescriptionArg AndroidBinaryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_MANIFEST = 0x1L;
+    private static final long INIT_BIT_KEYSTORE = 0x2L;
+    private static final long INIT_BIT_NAME = 0x4L;
+    private static final long OPT_BIT_USE_SPLIT_DEX = 0x1L;
+    private static final long OPT_BIT_MINIMIZE_PRIMARY_DEX_SIZE = 0x2L;
+    private static final long OPT_BIT_DISABLE_PRE_DEX = 0x4L;
+    private static final long OPT_BIT_SKIP_CRUNCH_PNGS = 0x8L;
+    private static final long OPT_BIT_INCLUDES_VECTOR_DRAWABLES = 0x10L;
+    private static final long OPT_BIT_NO_AUTO_VERSION_RESOURCES = 0x20L;
+    private static final long OPT_BIT_PRIMARY_DEX_SCENARIO_OVERFLOW_ALLOWED = 0x40L;
+    private static final long OPT_BIT_LINEAR_ALLOC_HARD_LIMIT = 0x80L;
+    private static final long OPT_BIT_IS_CACHEABLE = 0x100L;
+    private static final long OPT_BIT_TRIM_RESOURCE_IDS = 0x200L;
+    private static final long OPT_BIT_BUILD_STRING_SOURCE_MAP = 0x400L;
+    private static final long OPT_BIT_REORDER_CLASSES_INTRA_DEX = 0x800L;
+    private static final long OPT_BIT_PACKAGE_ASSET_LIBRARIES = 0x1000L;
+    private static final long OPT_BIT_COMPRESS_ASSET_LIBRARIES = 0x2000L;
+    private static final long OPT_BIT_ENABLE_RELINKER = 0x4000L;
+    private static final long OPT_BIT_REDEX = 0x8000L;
+    private static final long OPT_BIT_SKIP_PROGUARD = 0x10000L;
+    private long initBits = 0x7L;
+    private long optBits;
+
+    private @Nullable SourcePath manifest;
+    private @Nullable BuildTarget keystore;
+    private @Nullable String packageType;
+    private ImmutableSet.Builder<BuildTarget> noDx = ImmutableSet.builder();
+    private boolean useSplitDex;
+    private boolean minimizePrimaryDexSize;
+    private boolean disablePreDex;
+    private @Nullable Boolean exopackage;
+    private ImmutableSet.Builder<ExopackageMode> exopackageModes = ImmutableSet.builder();
+    private @Nullable DexStore dexCompression;
+    private @Nullable ProGuardObfuscateStep.SdkProguardType androidSdkProguardConfig;
+    private @Nullable Integer optimizationPasses;
+    private ImmutableList.Builder<String> proguardJvmArgs = ImmutableList.builder();
+    private @Nullable SourcePath proguardConfig;
+    private @Nullable ResourcesFilter.ResourceCompressionMode resourceCompression;
+    private boolean skipCrunchPngs;
+    private boolean includesVectorDrawables;
+    private boolean noAutoVersionResources;
+    private ImmutableList.Builder<String> primaryDexPatterns = ImmutableList.builder();
+    private @Nullable SourcePath primaryDexClassesFile;
+    private @Nullable SourcePath primaryDexScenarioFile;
+    private boolean primaryDexScenarioOverflowAllowed;
+    private @Nullable SourcePath secondaryDexHeadClassesFile;
+    private @Nullable SourcePath secondaryDexTailClassesFile;
+    private ImmutableSet.Builder<BuildTarget> applicationModuleTargets = ImmutableSet.builder();
+    private @Nullable SourcePath androidAppModularityResult;
+    private ImmutableMap.Builder<String, List<BuildTarget>> applicationModuleConfigs = ImmutableMap.builder();
+    private long linearAllocHardLimit;
+    private ImmutableList.Builder<String> resourceFilter = ImmutableList.builder();
+    private boolean isCacheable;
+    private @Nullable AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.DuplicateResourceBehaviour duplicateResourceBehavior;
+    private ImmutableSet.Builder<RDotTxtEntry.RType> allowedDuplicateResourceTypes = ImmutableSet.builder();
+    private ImmutableSet.Builder<RDotTxtEntry.RType> bannedDuplicateResourceTypes = ImmutableSet.builder();
+    private @Nullable AndroidBinary.AaptMode aaptMode;
+    private boolean trimResourceIds;
+    private @Nullable String keepResourcePattern;
+    private @Nullable String resourceUnionPackage;
+    private ImmutableSet.Builder<String> locales = ImmutableSet.builder();
+    private boolean buildStringSourceMap;
+    private ImmutableSet.Builder<TargetCpuType> cpuFilters = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<BuildTarget> preprocessJavaClassesDeps = ImmutableSortedSet.naturalOrder();
+    private @Nullable String preprocessJavaClassesBash;
+    private boolean reorderClassesIntraDex;
+    private @Nullable SourcePath dexReorderToolFile;
+    private @Nullable SourcePath dexReorderDataDumpFile;
+    private @Nullable Integer xzCompressionLevel;
+    private boolean packageAssetLibraries;
+    private boolean compressAssetLibraries;
+    private ImmutableMap.Builder<String, List<Pattern>> nativeLibraryMergeMap = ImmutableMap.builder();
+    private @Nullable BuildTarget nativeLibraryMergeGlue;
+    private @Nullable BuildTarget nativeLibraryMergeCodeGenerator;
+    private @Nullable ImmutableSortedSet<String> nativeLibraryMergeLocalizedSymbols;
+    private @Nullable BuildTarget nativeLibraryProguardConfigGenerator;
+    private boolean enableRelinker;
+    private ImmutableList.Builder<Pattern> relinkerWhitelist = ImmutableList.builder();
+    private @Nullable ManifestEntries manifestEntries;
+    private @Nullable BuildConfigFields buildConfigValues;
+    private boolean redex;
+    private @Nullable SourcePath redexConfig;
+    private ImmutableList.Builder<String> redexExtraArgs = ImmutableList.builder();
+    private @Nullable String postFilterResourcesCmd;
+    private @Nullable SourcePath buildConfigValuesFile;
+    private boolean skipProguard;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidBinaryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidBinaryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg) {
+        AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg instance = (AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg) object;
+        Optional<String> keepResourcePatternOptional = instance.getKeepResourcePattern();
+        if (keepResourcePatternOptional.isPresent()) {
+          setKeepResourcePattern(keepResourcePatternOptional);
+        }
+        addAllNoDx(instance.getNoDx());
+        Optional<String> packageTypeOptional = instance.getPackageType();
+        if (packageTypeOptional.isPresent()) {
+          setPackageType(packageTypeOptional);
+        }
+        Optional<SourcePath> buildConfigValuesFileOptional = instance.getBuildConfigValuesFile();
+        if (buildConfigValuesFileOptional.isPresent()) {
+          setBuildConfigValuesFile(buildConfigValuesFileOptional);
+        }
+        setIsCacheable(instance.getIsCacheable());
+        Optional<DexStore> dexCompressionOptional = instance.getDexCompression();
+        if (dexCompressionOptional.isPresent()) {
+          setDexCompression(dexCompressionOptional);
+        }
+        setSkipProguard(instance.isSkipProguard());
+        Optional<SourcePath> secondaryDexHeadClassesFileOptional = instance.getSecondaryDexHeadClassesFile();
+        if (secondaryDexHeadClassesFileOptional.isPresent()) {
+          setSecondaryDexHeadClassesFile(secondaryDexHeadClassesFileOptional);
+        }
+        Optional<SourcePath> redexConfigOptional = instance.getRedexConfig();
+        if (redexConfigOptional.isPresent()) {
+          setRedexConfig(redexConfigOptional);
+        }
+        setKeystore(instance.getKeystore());
+        addAllAllowedDuplicateResourceTypes(instance.getAllowedDuplicateResourceTypes());
+        Optional<String> resourceUnionPackageOptional = instance.getResourceUnionPackage();
+        if (resourceUnionPackageOptional.isPresent()) {
+          setResourceUnionPackage(resourceUnionPackageOptional);
+        }
+        setBuildConfigValues(instance.getBuildConfigValues());
+        Optional<String> postFilterResourcesCmdOptional = instance.getPostFilterResourcesCmd();
+        if (postFilterResourcesCmdOptional.isPresent()) {
+          setPostFilterResourcesCmd(postFilterResourcesCmdOptional);
+        }
+        addAllApplicationModuleTargets(instance.getApplicationModuleTargets());
+        Optional<SourcePath> dexReorderToolFileOptional = instance.getDexReorderToolFile();
+        if (dexReorderToolFileOptional.isPresent()) {
+          setDexReorderToolFile(dexReorderToolFileOptional);
+        }
+        Optional<BuildTarget> nativeLibraryMergeCodeGeneratorOptional = instance.getNativeLibraryMergeCodeGenerator();
+        if (nativeLibraryMergeCodeGeneratorOptional.isPresent()) {
+          setNativeLibraryMergeCodeGenerator(nativeLibraryMergeCodeGeneratorOptional);
+        }
+        addAllPreprocessJavaClassesDeps(instance.getPreprocessJavaClassesDeps());
+        setManifestEntries(instance.getManifestEntries());
+        addAllRedexExtraArgs(instance.getRedexExtraArgs());
+        addAllCpuFilters(instance.getCpuFilters());
+        addAllProguardJvmArgs(instance.getProguardJvmArgs());
+        Optional<ProGuardObfuscateStep.SdkProguardType> androidSdkProguardConfigOptional = instance.getAndroidSdkProguardConfig();
+        if (androidSdkProguardConfigOptional.isPresent()) {
+          setAndroidSdkProguardConfig(androidSdkProguardConfigOptional);
+        }
+        putAllNativeLibraryMergeMap(instance.getNativeLibraryMergeMap());
+        Optional<SourcePath> proguardConfigOptional = instance.getProguardConfig();
+        if (proguardConfigOptional.isPresent()) {
+          setProguardConfig(proguardConfigOptional);
+        }
+        setSkipCrunchPngs(instance.isSkipCrunchPngs());
+        Optional<Boolean> exopackageOptional = instance.isExopackage();
+        if (exopackageOptional.isPresent()) {
+          setExopackage(exopackageOptional);
+        }
+        setUseSplitDex(instance.getUseSplitDex());
+        addAllPrimaryDexPatterns(instance.getPrimaryDexPatterns());
+        Optional<SourcePath> primaryDexClassesFileOptional = instance.getPrimaryDexClassesFile();
+        if (primaryDexClassesFileOptional.isPresent()) {
+          setPrimaryDexClassesFile(primaryDexClassesFileOptional);
+        }
+        setTrimResourceIds(instance.isTrimResourceIds());
+        Optional<SourcePath> primaryDexScenarioFileOptional = instance.getPrimaryDexScenarioFile();
+        if (primaryDexScenarioFileOptional.isPresent()) {
+          setPrimaryDexScenarioFile(primaryDexScenarioFileOptional);
+        }
+        Optional<String> preprocessJavaClassesBashOptional = instance.getPreprocessJavaClassesBash();
+        if (preprocessJavaClassesBashOptional.isPresent()) {
+          setPreprocessJavaClassesBash(preprocessJavaClassesBashOptional);
+        }
+        setBuildStringSourceMap(instance.isBuildStringSourceMap());
+        setMinimizePrimaryDexSize(instance.getMinimizePrimaryDexSize());
+        addAllExopackageModes(instance.getExopackageModes());
+        Optional<Integer> optimizationPassesOptional = instance.getOptimizationPasses();
+        if (optimizationPassesOptional.isPresent()) {
+          setOptimizationPasses(optimizationPassesOptional);
+        }
+        setAaptMode(instance.getAaptMode());
+        setNoAutoVersionResources(instance.isNoAutoVersionResources());
+        addAllRelinkerWhitelist(instance.getRelinkerWhitelist());
+        Optional<Integer> xzCompressionLevelOptional = instance.getXzCompressionLevel();
+        if (xzCompressionLevelOptional.isPresent()) {
+          setXzCompressionLevel(xzCompressionLevelOptional);
+        }
+        setEnableRelinker(instance.isEnableRelinker());
+        setIncludesVectorDrawables(instance.isIncludesVectorDrawables());
+        Optional<BuildTarget> nativeLibraryProguardConfigGeneratorOptional = instance.getNativeLibraryProguardConfigGenerator();
+        if (nativeLibraryProguardConfigGeneratorOptional.isPresent()) {
+          setNativeLibraryProguardConfigGenerator(nativeLibraryProguardConfigGeneratorOptional);
+        }
+        setPrimaryDexScenarioOverflowAllowed(instance.isPrimaryDexScenarioOverflowAllowed());
+        Optional<SourcePath> androidAppModularityResultOptional = instance.getAndroidAppModularityResult();
+        if (androidAppModularityResultOptional.isPresent()) {
+          setAndroidAppModularityResult(androidAppModularityResultOptional);
+        }
+        putAllApplicationModuleConfigs(instance.getApplicationModuleConfigs());
+        addAllBannedDuplicateResourceTypes(instance.getBannedDuplicateResourceTypes());
+        setCompressAssetLibraries(instance.isCompressAssetLibraries());
+        setManifest(instance.getManifest());
+        setDisablePreDex(instance.getDisablePreDex());
+        addAllResourceFilter(instance.getResourceFilter());
+        setLinearAllocHardLimit(instance.getLinearAllocHardLimit());
+        Optional<SourcePath> secondaryDexTailClassesFileOptional = instance.getSecondaryDexTailClassesFile();
+        if (secondaryDexTailClassesFileOptional.isPresent()) {
+          setSecondaryDexTailClassesFile(secondaryDexTailClassesFileOptional);
+        }
+        setDuplicateResourceBehavior(instance.getDuplicateResourceBehavior());
+        setReorderClassesIntraDex(instance.isReorderClassesIntraDex());
+        setRedex(instance.getRedex());
+        addAllLocales(instance.getLocales());
+        setResourceCompression(instance.getResourceCompression());
+        setPackageAssetLibraries(instance.isPackageAssetLibraries());
+        Optional<SourcePath> dexReorderDataDumpFileOptional = instance.getDexReorderDataDumpFile();
+        if (dexReorderDataDumpFileOptional.isPresent()) {
+          setDexReorderDataDumpFile(dexReorderDataDumpFileOptional);
+        }
+        Optional<BuildTarget> nativeLibraryMergeGlueOptional = instance.getNativeLibraryMergeGlue();
+        if (nativeLibraryMergeGlueOptional.isPresent()) {
+          setNativeLibraryMergeGlue(nativeLibraryMergeGlueOptional);
+        }
+        Optional<ImmutableSortedSet<String>> nativeLibraryMergeLocalizedSymbolsOptional = instance.getNativeLibraryMergeLocalizedSymbols();
+        if (nativeLibraryMergeLocalizedSymbolsOptional.isPresent()) {
+          setNativeLibraryMergeLocalizedSymbols(nativeLibraryMergeLocalizedSymbolsOptional);
+        }
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getManifest() manifest} attribute.
+     * @param manifest The value for manifest 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setManifest(SourcePath manifest) {
+      this.manifest = Objects.requireNonNull(manifest, "manifest");
+      initBits &= ~INIT_BIT_MANIFEST;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getKeystore() keystore} attribute.
+     * @param keystore The value for keystore 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setKeystore(BuildTarget keystore) {
+      this.keystore = Objects.requireNonNull(keystore, "keystore");
+      initBits &= ~INIT_BIT_KEYSTORE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPackageType() packageType} to packageType.
+     * @param packageType The value for packageType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackageType(String packageType) {
+      this.packageType = Objects.requireNonNull(packageType, "packageType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPackageType() packageType} to packageType.
+     * @param packageType The value for packageType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackageType(Optional<String> packageType) {
+      this.packageType = packageType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNoDx() noDx} set.
+     * @param element A noDx element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addNoDx(BuildTarget element) {
+      this.noDx.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNoDx() noDx} set.
+     * @param elements An array of noDx elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addNoDx(BuildTarget... elements) {
+      this.noDx.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNoDx() noDx} set.
+     * @param elements An iterable of noDx elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNoDx(Iterable<? extends BuildTarget> elements) {
+      this.noDx = ImmutableSet.builder();
+      return addAllNoDx(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNoDx() noDx} set.
+     * @param elements An iterable of noDx elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllNoDx(Iterable<? extends BuildTarget> elements) {
+      this.noDx.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getUseSplitDex() useSplitDex} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getUseSplitDex() useSplitDex}.</em>
+     * @param useSplitDex The value for useSplitDex 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUseSplitDex(boolean useSplitDex) {
+      this.useSplitDex = useSplitDex;
+      optBits |= OPT_BIT_USE_SPLIT_DEX;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getMinimizePrimaryDexSize() minimizePrimaryDexSize} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getMinimizePrimaryDexSize() minimizePrimaryDexSize}.</em>
+     * @param minimizePrimaryDexSize The value for minimizePrimaryDexSize 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMinimizePrimaryDexSize(boolean minimizePrimaryDexSize) {
+      this.minimizePrimaryDexSize = minimizePrimaryDexSize;
+      optBits |= OPT_BIT_MINIMIZE_PRIMARY_DEX_SIZE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDisablePreDex() disablePreDex} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDisablePreDex() disablePreDex}.</em>
+     * @param disablePreDex The value for disablePreDex 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDisablePreDex(boolean disablePreDex) {
+      this.disablePreDex = disablePreDex;
+      optBits |= OPT_BIT_DISABLE_PRE_DEX;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isExopackage() exopackage} to exopackage.
+     * @param exopackage The value for exopackage
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExopackage(boolean exopackage) {
+      this.exopackage = exopackage;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isExopackage() exopackage} to exopackage.
+     * @param exopackage The value for exopackage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExopackage(Optional<Boolean> exopackage) {
+      this.exopackage = exopackage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getExopackageModes() exopackageModes} set.
+     * @param element A exopackageModes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExopackageModes(ExopackageMode element) {
+      this.exopackageModes.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getExopackageModes() exopackageModes} set.
+     * @param elements An array of exopackageModes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExopackageModes(ExopackageMode... elements) {
+      this.exopackageModes.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getExopackageModes() exopackageModes} set.
+     * @param elements An iterable of exopackageModes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExopackageModes(Iterable<ExopackageMode> elements) {
+      this.exopackageModes = ImmutableSet.builder();
+      return addAllExopackageModes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getExopackageModes() exopackageModes} set.
+     * @param elements An iterable of exopackageModes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExopackageModes(Iterable<ExopackageMode> elements) {
+      this.exopackageModes.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDexCompression() dexCompression} to dexCompression.
+     * @param dexCompression The value for dexCompression
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDexCompression(DexStore dexCompression) {
+      this.dexCompression = Objects.requireNonNull(dexCompression, "dexCompression");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDexCompression() dexCompression} to dexCompression.
+     * @param dexCompression The value for dexCompression
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDexCompression(Optional<? extends DexStore> dexCompression) {
+      this.dexCompression = dexCompression.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getAndroidSdkProguardConfig() androidSdkProguardConfig} to androidSdkProguardConfig.
+     * @param androidSdkProguardConfig The value for androidSdkProguardConfig
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAndroidSdkProguardConfig(ProGuardObfuscateStep.SdkProguardType androidSdkProguardConfig) {
+      this.androidSdkProguardConfig = Objects.requireNonNull(androidSdkProguardConfig, "androidSdkProguardConfig");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getAndroidSdkProguardConfig() androidSdkProguardConfig} to androidSdkProguardConfig.
+     * @param androidSdkProguardConfig The value for androidSdkProguardConfig
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAndroidSdkProguardConfig(Optional<? extends ProGuardObfuscateStep.SdkProguardType> androidSdkProguardConfig) {
+      this.androidSdkProguardConfig = androidSdkProguardConfig.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getOptimizationPasses() optimizationPasses} to optimizationPasses.
+     * @param optimizationPasses The value for optimizationPasses
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOptimizationPasses(int optimizationPasses) {
+      this.optimizationPasses = optimizationPasses;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getOptimizationPasses() optimizationPasses} to optimizationPasses.
+     * @param optimizationPasses The value for optimizationPasses
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOptimizationPasses(Optional<Integer> optimizationPasses) {
+      this.optimizationPasses = optimizationPasses.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getProguardJvmArgs() proguardJvmArgs} list.
+     * @param element A proguardJvmArgs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addProguardJvmArgs(String element) {
+      this.proguardJvmArgs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getProguardJvmArgs() proguardJvmArgs} list.
+     * @param elements An array of proguardJvmArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addProguardJvmArgs(String... elements) {
+      this.proguardJvmArgs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getProguardJvmArgs() proguardJvmArgs} list.
+     * @param elements An iterable of proguardJvmArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProguardJvmArgs(Iterable<String> elements) {
+      this.proguardJvmArgs = ImmutableList.builder();
+      return addAllProguardJvmArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getProguardJvmArgs() proguardJvmArgs} list.
+     * @param elements An iterable of proguardJvmArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllProguardJvmArgs(Iterable<String> elements) {
+      this.proguardJvmArgs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getProguardConfig() proguardConfig} to proguardConfig.
+     * @param proguardConfig The value for proguardConfig
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProguardConfig(SourcePath proguardConfig) {
+      this.proguardConfig = Objects.requireNonNull(proguardConfig, "proguardConfig");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getProguardConfig() proguardConfig} to proguardConfig.
+     * @param proguardConfig The value for proguardConfig
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProguardConfig(Optional<? extends SourcePath> proguardConfig) {
+      this.proguardConfig = proguardConfig.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getResourceCompression() resourceCompression} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getResourceCompression() resourceCompression}.</em>
+     * @param resourceCompression The value for resourceCompression 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResourceCompression(ResourcesFilter.ResourceCompressionMode resourceCompression) {
+      this.resourceCompression = Objects.requireNonNull(resourceCompression, "resourceCompression");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isSkipCrunchPngs() skipCrunchPngs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isSkipCrunchPngs() skipCrunchPngs}.</em>
+     * @param skipCrunchPngs The value for skipCrunchPngs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSkipCrunchPngs(boolean skipCrunchPngs) {
+      this.skipCrunchPngs = skipCrunchPngs;
+      optBits |= OPT_BIT_SKIP_CRUNCH_PNGS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isIncludesVectorDrawables() includesVectorDrawables} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isIncludesVectorDrawables() includesVectorDrawables}.</em>
+     * @param includesVectorDrawables The value for includesVectorDrawables 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludesVectorDrawables(boolean includesVectorDrawables) {
+      this.includesVectorDrawables = includesVectorDrawables;
+      optBits |= OPT_BIT_INCLUDES_VECTOR_DRAWABLES;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isNoAutoVersionResources() noAutoVersionResources} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isNoAutoVersionResources() noAutoVersionResources}.</em>
+     * @param noAutoVersionResources The value for noAutoVersionResources 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNoAutoVersionResources(boolean noAutoVersionResources) {
+      this.noAutoVersionResources = noAutoVersionResources;
+      optBits |= OPT_BIT_NO_AUTO_VERSION_RESOURCES;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPrimaryDexPatterns() primaryDexPatterns} list.
+     * @param element A primaryDexPatterns element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPrimaryDexPatterns(String element) {
+      this.primaryDexPatterns.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPrimaryDexPatterns() primaryDexPatterns} list.
+     * @param elements An array of primaryDexPatterns elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPrimaryDexPatterns(String... elements) {
+      this.primaryDexPatterns.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPrimaryDexPatterns() primaryDexPatterns} list.
+     * @param elements An iterable of primaryDexPatterns elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPrimaryDexPatterns(Iterable<String> elements) {
+      this.primaryDexPatterns = ImmutableList.builder();
+      return addAllPrimaryDexPatterns(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPrimaryDexPatterns() primaryDexPatterns} list.
+     * @param elements An iterable of primaryDexPatterns elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPrimaryDexPatterns(Iterable<String> elements) {
+      this.primaryDexPatterns.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPrimaryDexClassesFile() primaryDexClassesFile} to primaryDexClassesFile.
+     * @param primaryDexClassesFile The value for primaryDexClassesFile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPrimaryDexClassesFile(SourcePath primaryDexClassesFile) {
+      this.primaryDexClassesFile = Objects.requireNonNull(primaryDexClassesFile, "primaryDexClassesFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPrimaryDexClassesFile() primaryDexClassesFile} to primaryDexClassesFile.
+     * @param primaryDexClassesFile The value for primaryDexClassesFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPrimaryDexClassesFile(Optional<? extends SourcePath> primaryDexClassesFile) {
+      this.primaryDexClassesFile = primaryDexClassesFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPrimaryDexScenarioFile() primaryDexScenarioFile} to primaryDexScenarioFile.
+     * @param primaryDexScenarioFile The value for primaryDexScenarioFile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPrimaryDexScenarioFile(SourcePath primaryDexScenarioFile) {
+      this.primaryDexScenarioFile = Objects.requireNonNull(primaryDexScenarioFile, "primaryDexScenarioFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPrimaryDexScenarioFile() primaryDexScenarioFile} to primaryDexScenarioFile.
+     * @param primaryDexScenarioFile The value for primaryDexScenarioFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPrimaryDexScenarioFile(Optional<? extends SourcePath> primaryDexScenarioFile) {
+      this.primaryDexScenarioFile = primaryDexScenarioFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isPrimaryDexScenarioOverflowAllowed() primaryDexScenarioOverflowAllowed} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isPrimaryDexScenarioOverflowAllowed() primaryDexScenarioOverflowAllowed}.</em>
+     * @param primaryDexScenarioOverflowAllowed The value for primaryDexScenarioOverflowAllowed 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPrimaryDexScenarioOverflowAllowed(boolean primaryDexScenarioOverflowAllowed) {
+      this.primaryDexScenarioOverflowAllowed = primaryDexScenarioOverflowAllowed;
+      optBits |= OPT_BIT_PRIMARY_DEX_SCENARIO_OVERFLOW_ALLOWED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getSecondaryDexHeadClassesFile() secondaryDexHeadClassesFile} to secondaryDexHeadClassesFile.
+     * @param secondaryDexHeadClassesFile The value for secondaryDexHeadClassesFile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSecondaryDexHeadClassesFile(SourcePath secondaryDexHeadClassesFile) {
+      this.secondaryDexHeadClassesFile = Objects.requireNonNull(secondaryDexHeadClassesFile, "secondaryDexHeadClassesFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getSecondaryDexHeadClassesFile() secondaryDexHeadClassesFile} to secondaryDexHeadClassesFile.
+     * @param secondaryDexHeadClassesFile The value for secondaryDexHeadClassesFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSecondaryDexHeadClassesFile(Optional<? extends SourcePath> secondaryDexHeadClassesFile) {
+      this.secondaryDexHeadClassesFile = secondaryDexHeadClassesFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getSecondaryDexTailClassesFile() secondaryDexTailClassesFile} to secondaryDexTailClassesFile.
+     * @param secondaryDexTailClassesFile The value for secondaryDexTailClassesFile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSecondaryDexTailClassesFile(SourcePath secondaryDexTailClassesFile) {
+      this.secondaryDexTailClassesFile = Objects.requireNonNull(secondaryDexTailClassesFile, "secondaryDexTailClassesFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getSecondaryDexTailClassesFile() secondaryDexTailClassesFile} to secondaryDexTailClassesFile.
+     * @param secondaryDexTailClassesFile The value for secondaryDexTailClassesFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSecondaryDexTailClassesFile(Optional<? extends SourcePath> secondaryDexTailClassesFile) {
+      this.secondaryDexTailClassesFile = secondaryDexTailClassesFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getApplicationModuleTargets() applicationModuleTargets} set.
+     * @param element A applicationModuleTargets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addApplicationModuleTargets(BuildTarget element) {
+      this.applicationModuleTargets.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getApplicationModuleTargets() applicationModuleTargets} set.
+     * @param elements An array of applicationModuleTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addApplicationModuleTargets(BuildTarget... elements) {
+      this.applicationModuleTargets.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getApplicationModuleTargets() applicationModuleTargets} set.
+     * @param elements An iterable of applicationModuleTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setApplicationModuleTargets(Iterable<? extends BuildTarget> elements) {
+      this.applicationModuleTargets = ImmutableSet.builder();
+      return addAllApplicationModuleTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getApplicationModuleTargets() applicationModuleTargets} set.
+     * @param elements An iterable of applicationModuleTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllApplicationModuleTargets(Iterable<? extends BuildTarget> elements) {
+      this.applicationModuleTargets.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getAndroidAppModularityResult() androidAppModularityResult} to androidAppModularityResult.
+     * @param androidAppModularityResult The value for androidAppModularityResult
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAndroidAppModularityResult(SourcePath androidAppModularityResult) {
+      this.androidAppModularityResult = Objects.requireNonNull(androidAppModularityResult, "androidAppModularityResult");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getAndroidAppModularityResult() androidAppModularityResult} to androidAppModularityResult.
+     * @param androidAppModularityResult The value for androidAppModularityResult
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAndroidAppModularityResult(Optional<? extends SourcePath> androidAppModularityResult) {
+      this.androidAppModularityResult = androidAppModularityResult.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map.
+     * @param key The key in the applicationModuleConfigs map
+     * @param value The associated value in the applicationModuleConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putApplicationModuleConfigs(String key, List<BuildTarget> value) {
+      this.applicationModuleConfigs.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putApplicationModuleConfigs(Map.Entry<String, ? extends List<BuildTarget>> entry) {
+      this.applicationModuleConfigs.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map. Nulls are not permitted
+     * @param applicationModuleConfigs The entries that will be added to the applicationModuleConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setApplicationModuleConfigs(Map<String, ? extends List<BuildTarget>> applicationModuleConfigs) {
+      this.applicationModuleConfigs = ImmutableMap.builder();
+      return putAllApplicationModuleConfigs(applicationModuleConfigs);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map. Nulls are not permitted
+     * @param applicationModuleConfigs The entries that will be added to the applicationModuleConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllApplicationModuleConfigs(Map<String, ? extends List<BuildTarget>> applicationModuleConfigs) {
+      this.applicationModuleConfigs.putAll(applicationModuleConfigs);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLinearAllocHardLimit() linearAllocHardLimit} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLinearAllocHardLimit() linearAllocHardLimit}.</em>
+     * @param linearAllocHardLimit The value for linearAllocHardLimit 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinearAllocHardLimit(long linearAllocHardLimit) {
+      this.linearAllocHardLimit = linearAllocHardLimit;
+      optBits |= OPT_BIT_LINEAR_ALLOC_HARD_LIMIT;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getResourceFilter() resourceFilter} list.
+     * @param element A resourceFilter element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addResourceFilter(String element) {
+      this.resourceFilter.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getResourceFilter() resourceFilter} list.
+     * @param elements An array of resourceFilter elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addResourceFilter(String... elements) {
+      this.resourceFilter.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getResourceFilter() resourceFilter} list.
+     * @param elements An iterable of resourceFilter elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResourceFilter(Iterable<String> elements) {
+      this.resourceFilter = ImmutableList.builder();
+      return addAllResourceFilter(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getResourceFilter() resourceFilter} list.
+     * @param elements An iterable of resourceFilter elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllResourceFilter(Iterable<String> elements) {
+      this.resourceFilter.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getIsCacheable() isCacheable} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getIsCacheable() isCacheable}.</em>
+     * @param isCacheable The value for isCacheable 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIsCacheable(boolean isCacheable) {
+      this.isCacheable = isCacheable;
+      optBits |= OPT_BIT_IS_CACHEABLE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDuplicateResourceBehavior() duplicateResourceBehavior} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDuplicateResourceBehavior() duplicateResourceBehavior}.</em>
+     * @param duplicateResourceBehavior The value for duplicateResourceBehavior 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDuplicateResourceBehavior(AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg.DuplicateResourceBehaviour duplicateResourceBehavior) {
+      this.duplicateResourceBehavior = Objects.requireNonNull(duplicateResourceBehavior, "duplicateResourceBehavior");
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getAllowedDuplicateResourceTypes() allowedDuplicateResourceTypes} set.
+     * @param element A allowedDuplicateResourceTypes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllowedDuplicateResourceTypes(RDotTxtEntry.RType element) {
+      this.allowedDuplicateResourceTypes.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getAllowedDuplicateResourceTypes() allowedDuplicateResourceTypes} set.
+     * @param elements An array of allowedDuplicateResourceTypes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllowedDuplicateResourceTypes(RDotTxtEntry.RType... elements) {
+      this.allowedDuplicateResourceTypes.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getAllowedDuplicateResourceTypes() allowedDuplicateResourceTypes} set.
+     * @param elements An iterable of allowedDuplicateResourceTypes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAllowedDuplicateResourceTypes(Iterable<RDotTxtEntry.RType> elements) {
+      this.allowedDuplicateResourceTypes = ImmutableSet.builder();
+      return addAllAllowedDuplicateResourceTypes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getAllowedDuplicateResourceTypes() allowedDuplicateResourceTypes} set.
+     * @param elements An iterable of allowedDuplicateResourceTypes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllAllowedDuplicateResourceTypes(Iterable<RDotTxtEntry.RType> elements) {
+      this.allowedDuplicateResourceTypes.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getBannedDuplicateResourceTypes() bannedDuplicateResourceTypes} set.
+     * @param element A bannedDuplicateResourceTypes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBannedDuplicateResourceTypes(RDotTxtEntry.RType element) {
+      this.bannedDuplicateResourceTypes.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getBannedDuplicateResourceTypes() bannedDuplicateResourceTypes} set.
+     * @param elements An array of bannedDuplicateResourceTypes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBannedDuplicateResourceTypes(RDotTxtEntry.RType... elements) {
+      this.bannedDuplicateResourceTypes.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getBannedDuplicateResourceTypes() bannedDuplicateResourceTypes} set.
+     * @param elements An iterable of bannedDuplicateResourceTypes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBannedDuplicateResourceTypes(Iterable<RDotTxtEntry.RType> elements) {
+      this.bannedDuplicateResourceTypes = ImmutableSet.builder();
+      return addAllBannedDuplicateResourceTypes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getBannedDuplicateResourceTypes() bannedDuplicateResourceTypes} set.
+     * @param elements An iterable of bannedDuplicateResourceTypes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllBannedDuplicateResourceTypes(Iterable<RDotTxtEntry.RType> elements) {
+      this.bannedDuplicateResourceTypes.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getAaptMode() aaptMode} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getAaptMode() aaptMode}.</em>
+     * @param aaptMode The value for aaptMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAaptMode(AndroidBinary.AaptMode aaptMode) {
+      this.aaptMode = Objects.requireNonNull(aaptMode, "aaptMode");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isTrimResourceIds() trimResourceIds} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isTrimResourceIds() trimResourceIds}.</em>
+     * @param trimResourceIds The value for trimResourceIds 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTrimResourceIds(boolean trimResourceIds) {
+      this.trimResourceIds = trimResourceIds;
+      optBits |= OPT_BIT_TRIM_RESOURCE_IDS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getKeepResourcePattern() keepResourcePattern} to keepResourcePattern.
+     * @param keepResourcePattern The value for keepResourcePattern
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setKeepResourcePattern(String keepResourcePattern) {
+      this.keepResourcePattern = Objects.requireNonNull(keepResourcePattern, "keepResourcePattern");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getKeepResourcePattern() keepResourcePattern} to keepResourcePattern.
+     * @param keepResourcePattern The value for keepResourcePattern
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setKeepResourcePattern(Optional<String> keepResourcePattern) {
+      this.keepResourcePattern = keepResourcePattern.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getResourceUnionPackage() resourceUnionPackage} to resourceUnionPackage.
+     * @param resourceUnionPackage The value for resourceUnionPackage
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setResourceUnionPackage(String resourceUnionPackage) {
+      this.resourceUnionPackage = Objects.requireNonNull(resourceUnionPackage, "resourceUnionPackage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getResourceUnionPackage() resourceUnionPackage} to resourceUnionPackage.
+     * @param resourceUnionPackage The value for resourceUnionPackage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResourceUnionPackage(Optional<String> resourceUnionPackage) {
+      this.resourceUnionPackage = resourceUnionPackage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLocales() locales} set.
+     * @param element A locales element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLocales(String element) {
+      this.locales.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLocales() locales} set.
+     * @param elements An array of locales elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLocales(String... elements) {
+      this.locales.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLocales() locales} set.
+     * @param elements An iterable of locales elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLocales(Iterable<String> elements) {
+      this.locales = ImmutableSet.builder();
+      return addAllLocales(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLocales() locales} set.
+     * @param elements An iterable of locales elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLocales(Iterable<String> elements) {
+      this.locales.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isBuildStringSourceMap() buildStringSourceMap} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isBuildStringSourceMap() buildStringSourceMap}.</em>
+     * @param buildStringSourceMap The value for buildStringSourceMap 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildStringSourceMap(boolean buildStringSourceMap) {
+      this.buildStringSourceMap = buildStringSourceMap;
+      optBits |= OPT_BIT_BUILD_STRING_SOURCE_MAP;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getCpuFilters() cpuFilters} set.
+     * @param element A cpuFilters element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCpuFilters(TargetCpuType element) {
+      this.cpuFilters.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getCpuFilters() cpuFilters} set.
+     * @param elements An array of cpuFilters elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCpuFilters(TargetCpuType... elements) {
+      this.cpuFilters.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getCpuFilters() cpuFilters} set.
+     * @param elements An iterable of cpuFilters elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCpuFilters(Iterable<TargetCpuType> elements) {
+      this.cpuFilters = ImmutableSet.builder();
+      return addAllCpuFilters(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getCpuFilters() cpuFilters} set.
+     * @param elements An iterable of cpuFilters elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCpuFilters(Iterable<TargetCpuType> elements) {
+      this.cpuFilters.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPreprocessJavaClassesDeps() preprocessJavaClassesDeps} sortedSet.
+     * @param element A preprocessJavaClassesDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPreprocessJavaClassesDeps(BuildTarget element) {
+      this.preprocessJavaClassesDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPreprocessJavaClassesDeps() preprocessJavaClassesDeps} sortedSet.
+     * @param elements An array of preprocessJavaClassesDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPreprocessJavaClassesDeps(BuildTarget... elements) {
+      this.preprocessJavaClassesDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPreprocessJavaClassesDeps() preprocessJavaClassesDeps} sortedSet.
+     * @param elements An iterable of preprocessJavaClassesDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPreprocessJavaClassesDeps(Iterable<? extends BuildTarget> elements) {
+      this.preprocessJavaClassesDeps = ImmutableSortedSet.naturalOrder();
+      return addAllPreprocessJavaClassesDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPreprocessJavaClassesDeps() preprocessJavaClassesDeps} sortedSet.
+     * @param elements An iterable of preprocessJavaClassesDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPreprocessJavaClassesDeps(Iterable<? extends BuildTarget> elements) {
+      this.preprocessJavaClassesDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPreprocessJavaClassesBash() preprocessJavaClassesBash} to preprocessJavaClassesBash.
+     * @param preprocessJavaClassesBash The value for preprocessJavaClassesBash
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPreprocessJavaClassesBash(String preprocessJavaClassesBash) {
+      this.preprocessJavaClassesBash = Objects.requireNonNull(preprocessJavaClassesBash, "preprocessJavaClassesBash");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPreprocessJavaClassesBash() preprocessJavaClassesBash} to preprocessJavaClassesBash.
+     * @param preprocessJavaClassesBash The value for preprocessJavaClassesBash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPreprocessJavaClassesBash(Optional<String> preprocessJavaClassesBash) {
+      this.preprocessJavaClassesBash = preprocessJavaClassesBash.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isReorderClassesIntraDex() reorderClassesIntraDex} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isReorderClassesIntraDex() reorderClassesIntraDex}.</em>
+     * @param reorderClassesIntraDex The value for reorderClassesIntraDex 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setReorderClassesIntraDex(boolean reorderClassesIntraDex) {
+      this.reorderClassesIntraDex = reorderClassesIntraDex;
+      optBits |= OPT_BIT_REORDER_CLASSES_INTRA_DEX;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDexReorderToolFile() dexReorderToolFile} to dexReorderToolFile.
+     * @param dexReorderToolFile The value for dexReorderToolFile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDexReorderToolFile(SourcePath dexReorderToolFile) {
+      this.dexReorderToolFile = Objects.requireNonNull(dexReorderToolFile, "dexReorderToolFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDexReorderToolFile() dexReorderToolFile} to dexReorderToolFile.
+     * @param dexReorderToolFile The value for dexReorderToolFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDexReorderToolFile(Optional<? extends SourcePath> dexReorderToolFile) {
+      this.dexReorderToolFile = dexReorderToolFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDexReorderDataDumpFile() dexReorderDataDumpFile} to dexReorderDataDumpFile.
+     * @param dexReorderDataDumpFile The value for dexReorderDataDumpFile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDexReorderDataDumpFile(SourcePath dexReorderDataDumpFile) {
+      this.dexReorderDataDumpFile = Objects.requireNonNull(dexReorderDataDumpFile, "dexReorderDataDumpFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDexReorderDataDumpFile() dexReorderDataDumpFile} to dexReorderDataDumpFile.
+     * @param dexReorderDataDumpFile The value for dexReorderDataDumpFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDexReorderDataDumpFile(Optional<? extends SourcePath> dexReorderDataDumpFile) {
+      this.dexReorderDataDumpFile = dexReorderDataDumpFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getXzCompressionLevel() xzCompressionLevel} to xzCompressionLevel.
+     * @param xzCompressionLevel The value for xzCompressionLevel
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setXzCompressionLevel(int xzCompressionLevel) {
+      this.xzCompressionLevel = xzCompressionLevel;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getXzCompressionLevel() xzCompressionLevel} to xzCompressionLevel.
+     * @param xzCompressionLevel The value for xzCompressionLevel
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setXzCompressionLevel(Optional<Integer> xzCompressionLevel) {
+      this.xzCompressionLevel = xzCompressionLevel.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isPackageAssetLibraries() packageAssetLibraries} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isPackageAssetLibraries() packageAssetLibraries}.</em>
+     * @param packageAssetLibraries The value for packageAssetLibraries 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackageAssetLibraries(boolean packageAssetLibraries) {
+      this.packageAssetLibraries = packageAssetLibraries;
+      optBits |= OPT_BIT_PACKAGE_ASSET_LIBRARIES;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isCompressAssetLibraries() compressAssetLibraries} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isCompressAssetLibraries() compressAssetLibraries}.</em>
+     * @param compressAssetLibraries The value for compressAssetLibraries 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompressAssetLibraries(boolean compressAssetLibraries) {
+      this.compressAssetLibraries = compressAssetLibraries;
+      optBits |= OPT_BIT_COMPRESS_ASSET_LIBRARIES;
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryMergeMap() nativeLibraryMergeMap} map.
+     * @param key The key in the nativeLibraryMergeMap map
+     * @param value The associated value in the nativeLibraryMergeMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putNativeLibraryMergeMap(String key, List<Pattern> value) {
+      this.nativeLibraryMergeMap.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryMergeMap() nativeLibraryMergeMap} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putNativeLibraryMergeMap(Map.Entry<String, ? extends List<Pattern>> entry) {
+      this.nativeLibraryMergeMap.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryMergeMap() nativeLibraryMergeMap} map. Nulls are not permitted
+     * @param nativeLibraryMergeMap The entries that will be added to the nativeLibraryMergeMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeLibraryMergeMap(Map<String, ? extends List<Pattern>> nativeLibraryMergeMap) {
+      this.nativeLibraryMergeMap = ImmutableMap.builder();
+      return putAllNativeLibraryMergeMap(nativeLibraryMergeMap);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryMergeMap() nativeLibraryMergeMap} map. Nulls are not permitted
+     * @param nativeLibraryMergeMap The entries that will be added to the nativeLibraryMergeMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllNativeLibraryMergeMap(Map<String, ? extends List<Pattern>> nativeLibraryMergeMap) {
+      this.nativeLibraryMergeMap.putAll(nativeLibraryMergeMap);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryMergeGlue() nativeLibraryMergeGlue} to nativeLibraryMergeGlue.
+     * @param nativeLibraryMergeGlue The value for nativeLibraryMergeGlue
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNativeLibraryMergeGlue(BuildTarget nativeLibraryMergeGlue) {
+      this.nativeLibraryMergeGlue = Objects.requireNonNull(nativeLibraryMergeGlue, "nativeLibraryMergeGlue");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryMergeGlue() nativeLibraryMergeGlue} to nativeLibraryMergeGlue.
+     * @param nativeLibraryMergeGlue The value for nativeLibraryMergeGlue
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeLibraryMergeGlue(Optional<? extends BuildTarget> nativeLibraryMergeGlue) {
+      this.nativeLibraryMergeGlue = nativeLibraryMergeGlue.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryMergeCodeGenerator() nativeLibraryMergeCodeGenerator} to nativeLibraryMergeCodeGenerator.
+     * @param nativeLibraryMergeCodeGenerator The value for nativeLibraryMergeCodeGenerator
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNativeLibraryMergeCodeGenerator(BuildTarget nativeLibraryMergeCodeGenerator) {
+      this.nativeLibraryMergeCodeGenerator = Objects.requireNonNull(nativeLibraryMergeCodeGenerator, "nativeLibraryMergeCodeGenerator");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryMergeCodeGenerator() nativeLibraryMergeCodeGenerator} to nativeLibraryMergeCodeGenerator.
+     * @param nativeLibraryMergeCodeGenerator The value for nativeLibraryMergeCodeGenerator
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeLibraryMergeCodeGenerator(Optional<? extends BuildTarget> nativeLibraryMergeCodeGenerator) {
+      this.nativeLibraryMergeCodeGenerator = nativeLibraryMergeCodeGenerator.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryMergeLocalizedSymbols() nativeLibraryMergeLocalizedSymbols} to nativeLibraryMergeLocalizedSymbols.
+     * @param nativeLibraryMergeLocalizedSymbols The value for nativeLibraryMergeLocalizedSymbols
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNativeLibraryMergeLocalizedSymbols(ImmutableSortedSet<String> nativeLibraryMergeLocalizedSymbols) {
+      this.nativeLibraryMergeLocalizedSymbols = Objects.requireNonNull(nativeLibraryMergeLocalizedSymbols, "nativeLibraryMergeLocalizedSymbols");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryMergeLocalizedSymbols() nativeLibraryMergeLocalizedSymbols} to nativeLibraryMergeLocalizedSymbols.
+     * @param nativeLibraryMergeLocalizedSymbols The value for nativeLibraryMergeLocalizedSymbols
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeLibraryMergeLocalizedSymbols(Optional<? extends ImmutableSortedSet<String>> nativeLibraryMergeLocalizedSymbols) {
+      this.nativeLibraryMergeLocalizedSymbols = nativeLibraryMergeLocalizedSymbols.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryProguardConfigGenerator() nativeLibraryProguardConfigGenerator} to nativeLibraryProguardConfigGenerator.
+     * @param nativeLibraryProguardConfigGenerator The value for nativeLibraryProguardConfigGenerator
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNativeLibraryProguardConfigGenerator(BuildTarget nativeLibraryProguardConfigGenerator) {
+      this.nativeLibraryProguardConfigGenerator = Objects.requireNonNull(nativeLibraryProguardConfigGenerator, "nativeLibraryProguardConfigGenerator");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getNativeLibraryProguardConfigGenerator() nativeLibraryProguardConfigGenerator} to nativeLibraryProguardConfigGenerator.
+     * @param nativeLibraryProguardConfigGenerator The value for nativeLibraryProguardConfigGenerator
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeLibraryProguardConfigGenerator(Optional<? extends BuildTarget> nativeLibraryProguardConfigGenerator) {
+      this.nativeLibraryProguardConfigGenerator = nativeLibraryProguardConfigGenerator.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isEnableRelinker() enableRelinker} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isEnableRelinker() enableRelinker}.</em>
+     * @param enableRelinker The value for enableRelinker 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnableRelinker(boolean enableRelinker) {
+      this.enableRelinker = enableRelinker;
+      optBits |= OPT_BIT_ENABLE_RELINKER;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRelinkerWhitelist() relinkerWhitelist} list.
+     * @param element A relinkerWhitelist element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRelinkerWhitelist(Pattern element) {
+      this.relinkerWhitelist.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRelinkerWhitelist() relinkerWhitelist} list.
+     * @param elements An array of relinkerWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRelinkerWhitelist(Pattern... elements) {
+      this.relinkerWhitelist.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRelinkerWhitelist() relinkerWhitelist} list.
+     * @param elements An iterable of relinkerWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRelinkerWhitelist(Iterable<? extends Pattern> elements) {
+      this.relinkerWhitelist = ImmutableList.builder();
+      return addAllRelinkerWhitelist(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRelinkerWhitelist() relinkerWhitelist} list.
+     * @param elements An iterable of relinkerWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllRelinkerWhitelist(Iterable<? extends Pattern> elements) {
+      this.relinkerWhitelist.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getManifestEntries() manifestEntries} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getManifestEntries() manifestEntries}.</em>
+     * @param manifestEntries The value for manifestEntries 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setManifestEntries(ManifestEntries manifestEntries) {
+      this.manifestEntries = Objects.requireNonNull(manifestEntries, "manifestEntries");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getBuildConfigValues() buildConfigValues} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getBuildConfigValues() buildConfigValues}.</em>
+     * @param buildConfigValues The value for buildConfigValues 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildConfigValues(BuildConfigFields buildConfigValues) {
+      this.buildConfigValues = Objects.requireNonNull(buildConfigValues, "buildConfigValues");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRedex() redex} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRedex() redex}.</em>
+     * @param redex The value for redex 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRedex(boolean redex) {
+      this.redex = redex;
+      optBits |= OPT_BIT_REDEX;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRedexConfig() redexConfig} to redexConfig.
+     * @param redexConfig The value for redexConfig
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRedexConfig(SourcePath redexConfig) {
+      this.redexConfig = Objects.requireNonNull(redexConfig, "redexConfig");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRedexConfig() redexConfig} to redexConfig.
+     * @param redexConfig The value for redexConfig
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRedexConfig(Optional<? extends SourcePath> redexConfig) {
+      this.redexConfig = redexConfig.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRedexExtraArgs() redexExtraArgs} list.
+     * @param element A redexExtraArgs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRedexExtraArgs(String element) {
+      this.redexExtraArgs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRedexExtraArgs() redexExtraArgs} list.
+     * @param elements An array of redexExtraArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRedexExtraArgs(String... elements) {
+      this.redexExtraArgs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRedexExtraArgs() redexExtraArgs} list.
+     * @param elements An iterable of redexExtraArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRedexExtraArgs(Iterable<String> elements) {
+      this.redexExtraArgs = ImmutableList.builder();
+      return addAllRedexExtraArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getRedexExtraArgs() redexExtraArgs} list.
+     * @param elements An iterable of redexExtraArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllRedexExtraArgs(Iterable<String> elements) {
+      this.redexExtraArgs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPostFilterResourcesCmd() postFilterResourcesCmd} to postFilterResourcesCmd.
+     * @param postFilterResourcesCmd The value for postFilterResourcesCmd
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPostFilterResourcesCmd(String postFilterResourcesCmd) {
+      this.postFilterResourcesCmd = Objects.requireNonNull(postFilterResourcesCmd, "postFilterResourcesCmd");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getPostFilterResourcesCmd() postFilterResourcesCmd} to postFilterResourcesCmd.
+     * @param postFilterResourcesCmd The value for postFilterResourcesCmd
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPostFilterResourcesCmd(Optional<String> postFilterResourcesCmd) {
+      this.postFilterResourcesCmd = postFilterResourcesCmd.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getBuildConfigValuesFile() buildConfigValuesFile} to buildConfigValuesFile.
+     * @param buildConfigValuesFile The value for buildConfigValuesFile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildConfigValuesFile(SourcePath buildConfigValuesFile) {
+      this.buildConfigValuesFile = Objects.requireNonNull(buildConfigValuesFile, "buildConfigValuesFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getBuildConfigValuesFile() buildConfigValuesFile} to buildConfigValuesFile.
+     * @param buildConfigValuesFile The value for buildConfigValuesFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildConfigValuesFile(Optional<? extends SourcePath> buildConfigValuesFile) {
+      this.buildConfigValuesFile = buildConfigValuesFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isSkipProguard() skipProguard} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#isSkipProguard() skipProguard}.</em>
+     * @param skipProguard The value for skipProguard 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSkipProguard(boolean skipProguard) {
+      this.skipProguard = skipProguard;
+      optBits |= OPT_BIT_SKIP_PROGUARD;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidBinaryDescriptionArg AndroidBinaryDescriptionArg}.
+     * @return An immutable instance of AndroidBinaryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidBinaryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidBinaryDescriptionArg(this);
+    }
+
+    private boolean useSplitDexIsSet() {
+      return (optBits & OPT_BIT_USE_SPLIT_DEX) != 0;
+    }
+
+    private boolean minimizePrimaryDexSizeIsSet() {
+      return (optBits & OPT_BIT_MINIMIZE_PRIMARY_DEX_SIZE) != 0;
+    }
+
+    private boolean disablePreDexIsSet() {
+      return (optBits & OPT_BIT_DISABLE_PRE_DEX) != 0;
+    }
+
+    private boolean skipCrunchPngsIsSet() {
+      return (optBits & OPT_BIT_SKIP_CRUNCH_PNGS) != 0;
+    }
+
+    private boolean includesVectorDrawablesIsSet() {
+      return (optBits & OPT_BIT_INCLUDES_VECTOR_DRAWABLES) != 0;
+    }
+
+    private boolean noAutoVersionResourcesIsSet() {
+      return (optBits & OPT_BIT_NO_AUTO_VERSION_RESOURCES) != 0;
+    }
+
+    private boolean primaryDexScenarioOverflowAllowedIsSet() {
+      return (optBits & OPT_BIT_PRIMARY_DEX_SCENARIO_OVERFLOW_ALLOWED) != 0;
+    }
+
+    private boolean linearAllocHardLimitIsSet() {
+      return (optBits & OPT_BIT_LINEAR_ALLOC_HARD_LIMIT) != 0;
+    }
+
+    private boolean isCacheableIsSet() {
+      return (optBits & OPT_BIT_IS_CACHEABLE) != 0;
+    }
+
+    private boolean trimResourceIdsIsSet() {
+      return (optBits & OPT_BIT_TRIM_RESOURCE_IDS) != 0;
+    }
+
+    private boolean buildStringSourceMapIsSet() {
+      return (optBits & OPT_BIT_BUILD_STRING_SOURCE_MAP) != 0;
+    }
+
+    private boolean reorderClassesIntraDexIsSet() {
+      return (optBits & OPT_BIT_REORDER_CLASSES_INTRA_DEX) != 0;
+    }
+
+    private boolean packageAssetLibrariesIsSet() {
+      return (optBits & OPT_BIT_PACKAGE_ASSET_LIBRARIES) != 0;
+    }
+
+    private boolean compressAssetLibrariesIsSet() {
+      return (optBits & OPT_BIT_COMPRESS_ASSET_LIBRARIES) != 0;
+    }
+
+    private boolean enableRelinkerIsSet() {
+      return (optBits & OPT_BIT_ENABLE_RELINKER) != 0;
+    }
+
+    private boolean redexIsSet() {
+      return (optBits & OPT_BIT_REDEX) != 0;
+    }
+
+    private boolean skipProguardIsSet() {
+      return (optBits & OPT_BIT_SKIP_PROGUARD) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_MANIFEST) != 0) attributes.add("manifest");
+      if ((initBits & INIT_BIT_KEYSTORE) != 0) attributes.add("keystore");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AndroidBinaryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,677 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidInstrumentationApkDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg"})
+@Immutable
+public final class AndroidInstrumentationApkDescriptionArg
+    implements AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg {
+  private final SourcePath manifest;
+  private final BuildTarget apk;
+  private final boolean includesVectorDrawables;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private AndroidInstrumentationApkDescriptionArg(AndroidInstrumentationApkDescriptionArg.Builder builder) {
+    this.manifest = builder.manifest;
+    this.apk = builder.apk;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.includesVectorDrawables = builder.includesVectorDrawablesIsSet()
+        ? builder.includesVectorDrawables
+        : AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg.super.getIncludesVectorDrawables();
+  }
+
+  private AndroidInstrumentationApkDescriptionArg(
+      SourcePath manifest,
+      BuildTarget apk,
+      boolean includesVectorDrawables,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.manifest = manifest;
+    this.apk = apk;
+    this.includesVectorDrawables = includesVectorDrawables;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+  }
+
+  /**
+   * @return The value of the {@code manifest} attribute
+   */
+  @Override
+  public SourcePath getManifest() {
+    return manifest;
+  }
+
+  /**
+   * @return The value of the {@code apk} attribute
+   */
+  @Override
+  public BuildTarget getApk() {
+    return apk;
+  }
+
+  /**
+   * @return The value of the {@code includesVectorDrawables} attribute
+   */
+  @Override
+  public boolean getIncludesVectorDrawables() {
+    return includesVectorDrawables;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getManifest() manifest} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for manifest
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidInstrumentationApkDescriptionArg withManifest(SourcePath value) {
+    if (this.manifest == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "manifest");
+    return new AndroidInstrumentationApkDescriptionArg(
+        newValue,
+        this.apk,
+        this.includesVectorDrawables,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getApk() apk} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for apk
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidInstrumentationApkDescriptionArg withApk(BuildTarget value) {
+    if (this.apk == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "apk");
+    return new AndroidInstrumentationApkDescriptionArg(
+        this.manifest,
+        newValue,
+        this.includesVectorDrawables,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getIncludesVectorDrawables() includesVectorDrawables} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for includesVectorDrawables
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidInstrumentationApkDescriptionArg withIncludesVectorDrawables(boolean value) {
+    if (this.includesVectorDrawables == value) return this;
+    return new AndroidInstrumentationApkDescriptionArg(this.manifest, this.apk, value, this.name, this.licenses, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidInstrumentationApkDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new AndroidInstrumentationApkDescriptionArg(
+        this.manifest,
+        this.apk,
+        this.includesVectorDrawables,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationApkDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidInstrumentationApkDescriptionArg(
+        this.manifest,
+        this.apk,
+        this.includesVectorDrawables,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationApkDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidInstrumentationApkDescriptionArg(
+        this.manifest,
+        this.apk,
+        this.includesVectorDrawables,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationApkDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new AndroidInstrumentationApkDescriptionArg(
+        this.manifest,
+        this.apk,
+        this.includesVectorDrawables,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationApkDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new AndroidInstrumentationApkDescriptionArg(
+        this.manifest,
+        this.apk,
+        this.includesVectorDrawables,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationApkDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new AndroidInstrumentationApkDescriptionArg(
+        this.manifest,
+        this.apk,
+        this.includesVectorDrawables,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationApkDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new AndroidInstrumentationApkDescriptionArg(
+        this.manifest,
+        this.apk,
+        this.includesVectorDrawables,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidInstrumentationApkDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidInstrumentationApkDescriptionArg
+        && equalTo((AndroidInstrumentationApkDescriptionArg) another);
+  }
+
+  private boolean equalTo(AndroidInstrumentationApkDescriptionArg another) {
+    return manifest.equals(another.manifest)
+        && apk.equals(another.apk)
+        && includesVectorDrawables == another.includesVectorDrawables
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code manifest}, {@code apk}, {@code includesVectorDrawables}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + manifest.hashCode();
+    h += (h << 5) + apk.hashCode();
+    h += (h << 5) + Booleans.hashCode(includesVectorDrawables);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidInstrumentationApkDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidInstrumentationApkDescriptionArg")
+        .omitNullValues()
+        .add("manifest", manifest)
+        .add("apk", apk)
+        .add("includesVectorDrawables", includesVectorDrawables)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AndroidInstrumentationApkDescriptionArg instance
+   */
+  static AndroidInstrumentationApkDescriptionArg copyOf(AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg instance) {
+    if (instance instanceof AndroidInstrumentationApkDescriptionArg) {
+      return (AndroidInstrumentationApkDescriptionArg) instance;
+    }
+    return AndroidInstrumentationApkDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidInstrumentationApkDescriptionArg AndroidInstrumentationApkDescriptionArg}.
+   * @return A new AndroidInstrumentationApkDescriptionArg builder
+   */
+  public static AndroidInstrumentationApkDescriptionArg.Builder builder() {
+    return new AndroidInstrumentationApkDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidInstrumentationApkDescriptionArg AndroidInstrumentationApkDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_MANIFEST = 0x1L;
+    private static final long INIT_BIT_APK = 0x2L;
+    private static final long INIT_BIT_NAME = 0x4L;
+    private static final long OPT_BIT_INCLUDES_VECTOR_DRAWABLES = 0x1L;
+    private long initBits = 0x7L;
+    private long optBits;
+
+    private @Nullable SourcePath manifest;
+    private @Nullable BuildTarget apk;
+    private boolean includesVectorDrawables;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidInstrumentationApkDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidInstrumentationApkDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidInstrumentationApkDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg) {
+        AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg instance = (AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg) object;
+        setApk(instance.getApk());
+        setIncludesVectorDrawables(instance.getIncludesVectorDrawables());
+        setManifest(instance.getManifest());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getManifest() manifest} attribute.
+     * @param manifest The value for manifest 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setManifest(SourcePath manifest) {
+      this.manifest = Objects.requireNonNull(manifest, "manifest");
+      initBits &= ~INIT_BIT_MANIFEST;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getApk() apk} attribute.
+     * @param apk The value for apk 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setApk(BuildTarget apk) {
+      this.apk = Objects.requireNonNull(apk, "apk");
+      initBits &= ~INIT_BIT_APK;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getIncludesVectorDrawables() includesVectorDrawables} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getIncludesVectorDrawables() includesVectorDrawables}.</em>
+     * @param includesVectorDrawables The value for includesVectorDrawables 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludesVectorDrawables(boolean includesVectorDrawables) {
+      this.includesVectorDrawables = includesVectorDrawables;
+      optBits |= OPT_BIT_INCLUDES_VECTOR_DRAWABLES;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidInstrumentationApkDescriptionArg AndroidInstrumentationApkDescriptionArg}.
+     * @return An immutable instance of AndroidInstrumentationApkDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidInstrumentationApkDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidInstrumentationApkDescriptionArg(this);
+    }
+
+    private boolean includesVectorDrawablesIsSet() {
+      return (optBits & OPT_BIT_INCLUDES_VECTOR_DRAWABLES) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_MANIFEST) != 0) attributes.add("manifest");
+      if ((initBits & INIT_BIT_APK) != 0) attributes.add("apk");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AndroidInstrumentationApkDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
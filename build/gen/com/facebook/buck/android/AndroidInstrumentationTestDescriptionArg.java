@@ -0,0 +1,591 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasContacts;
+import com.facebook.buck.rules.HasTestTimeout;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidInstrumentationTestDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg"})
+@Immutable
+public final class AndroidInstrumentationTestDescriptionArg
+    implements AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg {
+  private final BuildTarget apk;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<String> contacts;
+  private final @Nullable Long testRuleTimeoutMs;
+
+  private AndroidInstrumentationTestDescriptionArg(
+      BuildTarget apk,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<String> contacts,
+      @Nullable Long testRuleTimeoutMs) {
+    this.apk = apk;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.contacts = contacts;
+    this.testRuleTimeoutMs = testRuleTimeoutMs;
+  }
+
+  /**
+   * @return The value of the {@code apk} attribute
+   */
+  @Override
+  public BuildTarget getApk() {
+    return apk;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code contacts} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getContacts() {
+    return contacts;
+  }
+
+  /**
+   * @return The value of the {@code testRuleTimeoutMs} attribute
+   */
+  @Override
+  public Optional<Long> getTestRuleTimeoutMs() {
+    return Optional.ofNullable(testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getApk() apk} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for apk
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidInstrumentationTestDescriptionArg withApk(BuildTarget value) {
+    if (this.apk == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "apk");
+    return new AndroidInstrumentationTestDescriptionArg(newValue, this.name, this.licenses, this.labels, this.contacts, this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidInstrumentationTestDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new AndroidInstrumentationTestDescriptionArg(this.apk, newValue, this.licenses, this.labels, this.contacts, this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidInstrumentationTestDescriptionArg(this.apk, this.name, newValue, this.labels, this.contacts, this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidInstrumentationTestDescriptionArg(this.apk, this.name, newValue, this.labels, this.contacts, this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new AndroidInstrumentationTestDescriptionArg(this.apk, this.name, this.licenses, newValue, this.contacts, this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new AndroidInstrumentationTestDescriptionArg(this.apk, this.name, this.licenses, newValue, this.contacts, this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getContacts() contacts}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestDescriptionArg withContacts(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new AndroidInstrumentationTestDescriptionArg(this.apk, this.name, this.licenses, this.labels, newValue, this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getContacts() contacts}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of contacts elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestDescriptionArg withContacts(Iterable<String> elements) {
+    if (this.contacts == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new AndroidInstrumentationTestDescriptionArg(this.apk, this.name, this.licenses, this.labels, newValue, this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} attribute.
+   * @param value The value for testRuleTimeoutMs
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestDescriptionArg withTestRuleTimeoutMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.testRuleTimeoutMs, newValue)) return this;
+    return new AndroidInstrumentationTestDescriptionArg(this.apk, this.name, this.licenses, this.labels, this.contacts, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for testRuleTimeoutMs
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestDescriptionArg withTestRuleTimeoutMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.testRuleTimeoutMs, value)) return this;
+    return new AndroidInstrumentationTestDescriptionArg(this.apk, this.name, this.licenses, this.labels, this.contacts, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidInstrumentationTestDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidInstrumentationTestDescriptionArg
+        && equalTo((AndroidInstrumentationTestDescriptionArg) another);
+  }
+
+  private boolean equalTo(AndroidInstrumentationTestDescriptionArg another) {
+    return apk.equals(another.apk)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && contacts.equals(another.contacts)
+        && Objects.equals(testRuleTimeoutMs, another.testRuleTimeoutMs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code apk}, {@code name}, {@code licenses}, {@code labels}, {@code contacts}, {@code testRuleTimeoutMs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + apk.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + contacts.hashCode();
+    h += (h << 5) + Objects.hashCode(testRuleTimeoutMs);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidInstrumentationTestDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidInstrumentationTestDescriptionArg")
+        .omitNullValues()
+        .add("apk", apk)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("contacts", contacts)
+        .add("testRuleTimeoutMs", testRuleTimeoutMs)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AndroidInstrumentationTestDescriptionArg instance
+   */
+  static AndroidInstrumentationTestDescriptionArg copyOf(AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg instance) {
+    if (instance instanceof AndroidInstrumentationTestDescriptionArg) {
+      return (AndroidInstrumentationTestDescriptionArg) instance;
+    }
+    return AndroidInstrumentationTestDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidInstrumentationTestDescriptionArg AndroidInstrumentationTestDescriptionArg}.
+   * @return A new AndroidInstrumentationTestDescriptionArg builder
+   */
+  public static AndroidInstrumentationTestDescriptionArg.Builder builder() {
+    return new AndroidInstrumentationTestDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidInstrumentationTestDescriptionArg AndroidInstrumentationTestDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_APK = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable BuildTarget apk;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<String> contacts = ImmutableSortedSet.naturalOrder();
+    private @Nullable Long testRuleTimeoutMs;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasContacts} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasContacts instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTestTimeout} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTestTimeout instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidInstrumentationTestDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidInstrumentationTestDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidInstrumentationTestDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasContacts) {
+        HasContacts instance = (HasContacts) object;
+        addAllContacts(instance.getContacts());
+      }
+      if (object instanceof HasTestTimeout) {
+        HasTestTimeout instance = (HasTestTimeout) object;
+        Optional<Long> testRuleTimeoutMsOptional = instance.getTestRuleTimeoutMs();
+        if (testRuleTimeoutMsOptional.isPresent()) {
+          setTestRuleTimeoutMs(testRuleTimeoutMsOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg) {
+        AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg instance = (AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg) object;
+        setApk(instance.getApk());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getApk() apk} attribute.
+     * @param apk The value for apk 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setApk(BuildTarget apk) {
+      this.apk = Objects.requireNonNull(apk, "apk");
+      initBits &= ~INIT_BIT_APK;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param element A contacts element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addContacts(String element) {
+      this.contacts.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An array of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addContacts(String... elements) {
+      this.contacts.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setContacts(Iterable<String> elements) {
+      this.contacts = ImmutableSortedSet.naturalOrder();
+      return addAllContacts(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllContacts(Iterable<String> elements) {
+      this.contacts.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} to testRuleTimeoutMs.
+     * @param testRuleTimeoutMs The value for testRuleTimeoutMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestRuleTimeoutMs(long testRuleTimeoutMs) {
+      this.testRuleTimeoutMs = testRuleTimeoutMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestDescription.AbstractAndroidInstrumentationTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} to testRuleTimeoutMs.
+     * @param testRuleTimeoutMs The value for testRuleTimeoutMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestRuleTimeoutMs(Optional<Long> testRuleTimeoutMs) {
+      this.testRuleTimeoutMs = testRuleTimeoutMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidInstrumentationTestDescriptionArg AndroidInstrumentationTestDescriptionArg}.
+     * @return An immutable instance of AndroidInstrumentationTestDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidInstrumentationTestDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidInstrumentationTestDescriptionArg(apk, name, licenses.build(), labels.build(), contacts.build(), testRuleTimeoutMs);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_APK) != 0) attributes.add("apk");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AndroidInstrumentationTestDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,523 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidManifestDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AndroidManifestDescription.AbstractAndroidManifestDescriptionArg"})
+@Immutable
+public final class AndroidManifestDescriptionArg
+    implements AndroidManifestDescription.AbstractAndroidManifestDescriptionArg {
+  private final SourcePath skeleton;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+
+  private AndroidManifestDescriptionArg(
+      SourcePath skeleton,
+      ImmutableSortedSet<BuildTarget> deps,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels) {
+    this.skeleton = skeleton;
+    this.deps = deps;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+  }
+
+  /**
+   * @return The value of the {@code skeleton} attribute
+   */
+  @Override
+  public SourcePath getSkeleton() {
+    return skeleton;
+  }
+
+  /**
+   * A collection of dependencies that includes android_library rules. The manifest files of the
+   * android_library rules will be filtered out to become dependent source files for the {@link
+   * AndroidManifest}.
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getSkeleton() skeleton} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for skeleton
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidManifestDescriptionArg withSkeleton(SourcePath value) {
+    if (this.skeleton == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "skeleton");
+    return new AndroidManifestDescriptionArg(newValue, this.deps, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidManifestDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new AndroidManifestDescriptionArg(this.skeleton, newValue, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidManifestDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new AndroidManifestDescriptionArg(this.skeleton, newValue, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidManifestDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new AndroidManifestDescriptionArg(this.skeleton, this.deps, newValue, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidManifestDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidManifestDescriptionArg(this.skeleton, this.deps, this.name, newValue, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidManifestDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidManifestDescriptionArg(this.skeleton, this.deps, this.name, newValue, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidManifestDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new AndroidManifestDescriptionArg(this.skeleton, this.deps, this.name, this.licenses, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidManifestDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new AndroidManifestDescriptionArg(this.skeleton, this.deps, this.name, this.licenses, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidManifestDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidManifestDescriptionArg
+        && equalTo((AndroidManifestDescriptionArg) another);
+  }
+
+  private boolean equalTo(AndroidManifestDescriptionArg another) {
+    return skeleton.equals(another.skeleton)
+        && deps.equals(another.deps)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code skeleton}, {@code deps}, {@code name}, {@code licenses}, {@code labels}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + skeleton.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidManifestDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidManifestDescriptionArg")
+        .omitNullValues()
+        .add("skeleton", skeleton)
+        .add("deps", deps)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AndroidManifestDescriptionArg instance
+   */
+  static AndroidManifestDescriptionArg copyOf(AndroidManifestDescription.AbstractAndroidManifestDescriptionArg instance) {
+    if (instance instanceof AndroidManifestDescriptionArg) {
+      return (AndroidManifestDescriptionArg) instance;
+    }
+    return AndroidManifestDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidManifestDescriptionArg AndroidManifestDescriptionArg}.
+   * @return A new AndroidManifestDescriptionArg builder
+   */
+  public static AndroidManifestDescriptionArg.Builder builder() {
+    return new AndroidManifestDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidManifestDescriptionArg AndroidManifestDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SKELETON = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable SourcePath skeleton;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidManifestDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidManifestDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidManifestDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AndroidManifestDescription.AbstractAndroidManifestDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof AndroidManifestDescription.AbstractAndroidManifestDescriptionArg) {
+        AndroidManifestDescription.AbstractAndroidManifestDescriptionArg instance = (AndroidManifestDescription.AbstractAndroidManifestDescriptionArg) object;
+        setSkeleton(instance.getSkeleton());
+        if ((bits & 0x1L) == 0) {
+          addAllDeps(instance.getDeps());
+          bits |= 0x1L;
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        if ((bits & 0x1L) == 0) {
+          addAllDeps(instance.getDeps());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getSkeleton() skeleton} attribute.
+     * @param skeleton The value for skeleton 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSkeleton(SourcePath skeleton) {
+      this.skeleton = Objects.requireNonNull(skeleton, "skeleton");
+      initBits &= ~INIT_BIT_SKELETON;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidManifestDescription.AbstractAndroidManifestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidManifestDescriptionArg AndroidManifestDescriptionArg}.
+     * @return An immutable instance of AndroidManifestDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidManifestDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidManifestDescriptionArg(skeleton, deps.build(), name, licenses.build(), labels.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SKELETON) != 0) attributes.add("skeleton");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AndroidManifestDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,383 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.apkmodule.APKModule;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidNativeLibsGraphEnhancementResult.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult"})
+@Immutable
+public final class AndroidNativeLibsGraphEnhancementResult
+    implements AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult {
+  private final @Nullable ImmutableMap<APKModule, CopyNativeLibraries> copyNativeLibraries;
+  private final @Nullable ImmutableSortedSet<SourcePath> unstrippedLibraries;
+  private final @Nullable ImmutableSortedMap<String, String> sonameMergeMap;
+  private final @Nullable ImmutableSortedMap<String, ImmutableSortedSet<String>> sharedObjectTargets;
+
+  private AndroidNativeLibsGraphEnhancementResult(
+      @Nullable ImmutableMap<APKModule, CopyNativeLibraries> copyNativeLibraries,
+      @Nullable ImmutableSortedSet<SourcePath> unstrippedLibraries,
+      @Nullable ImmutableSortedMap<String, String> sonameMergeMap,
+      @Nullable ImmutableSortedMap<String, ImmutableSortedSet<String>> sharedObjectTargets) {
+    this.copyNativeLibraries = copyNativeLibraries;
+    this.unstrippedLibraries = unstrippedLibraries;
+    this.sonameMergeMap = sonameMergeMap;
+    this.sharedObjectTargets = sharedObjectTargets;
+  }
+
+  /**
+   * @return The value of the {@code copyNativeLibraries} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<APKModule, CopyNativeLibraries>> getCopyNativeLibraries() {
+    return Optional.ofNullable(copyNativeLibraries);
+  }
+
+  /**
+   * @return The value of the {@code unstrippedLibraries} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedSet<SourcePath>> getUnstrippedLibraries() {
+    return Optional.ofNullable(unstrippedLibraries);
+  }
+
+  /**
+   * @return The value of the {@code sonameMergeMap} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedMap<String, String>> getSonameMergeMap() {
+    return Optional.ofNullable(sonameMergeMap);
+  }
+
+  /**
+   * @return The value of the {@code sharedObjectTargets} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedMap<String, ImmutableSortedSet<String>>> getSharedObjectTargets() {
+    return Optional.ofNullable(sharedObjectTargets);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult#getCopyNativeLibraries() copyNativeLibraries} attribute.
+   * @param value The value for copyNativeLibraries
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidNativeLibsGraphEnhancementResult withCopyNativeLibraries(ImmutableMap<APKModule, CopyNativeLibraries> value) {
+    @Nullable ImmutableMap<APKModule, CopyNativeLibraries> newValue = Objects.requireNonNull(value, "copyNativeLibraries");
+    if (this.copyNativeLibraries == newValue) return this;
+    return new AndroidNativeLibsGraphEnhancementResult(newValue, this.unstrippedLibraries, this.sonameMergeMap, this.sharedObjectTargets);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult#getCopyNativeLibraries() copyNativeLibraries} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for copyNativeLibraries
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidNativeLibsGraphEnhancementResult withCopyNativeLibraries(Optional<? extends ImmutableMap<APKModule, CopyNativeLibraries>> optional) {
+    @Nullable ImmutableMap<APKModule, CopyNativeLibraries> value = optional.orElse(null);
+    if (this.copyNativeLibraries == value) return this;
+    return new AndroidNativeLibsGraphEnhancementResult(value, this.unstrippedLibraries, this.sonameMergeMap, this.sharedObjectTargets);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult#getUnstrippedLibraries() unstrippedLibraries} attribute.
+   * @param value The value for unstrippedLibraries
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidNativeLibsGraphEnhancementResult withUnstrippedLibraries(ImmutableSortedSet<SourcePath> value) {
+    @Nullable ImmutableSortedSet<SourcePath> newValue = Objects.requireNonNull(value, "unstrippedLibraries");
+    if (this.unstrippedLibraries == newValue) return this;
+    return new AndroidNativeLibsGraphEnhancementResult(this.copyNativeLibraries, newValue, this.sonameMergeMap, this.sharedObjectTargets);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult#getUnstrippedLibraries() unstrippedLibraries} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for unstrippedLibraries
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidNativeLibsGraphEnhancementResult withUnstrippedLibraries(Optional<? extends ImmutableSortedSet<SourcePath>> optional) {
+    @Nullable ImmutableSortedSet<SourcePath> value = optional.orElse(null);
+    if (this.unstrippedLibraries == value) return this;
+    return new AndroidNativeLibsGraphEnhancementResult(this.copyNativeLibraries, value, this.sonameMergeMap, this.sharedObjectTargets);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult#getSonameMergeMap() sonameMergeMap} attribute.
+   * @param value The value for sonameMergeMap
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidNativeLibsGraphEnhancementResult withSonameMergeMap(ImmutableSortedMap<String, String> value) {
+    @Nullable ImmutableSortedMap<String, String> newValue = Objects.requireNonNull(value, "sonameMergeMap");
+    if (this.sonameMergeMap == newValue) return this;
+    return new AndroidNativeLibsGraphEnhancementResult(this.copyNativeLibraries, this.unstrippedLibraries, newValue, this.sharedObjectTargets);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult#getSonameMergeMap() sonameMergeMap} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sonameMergeMap
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidNativeLibsGraphEnhancementResult withSonameMergeMap(Optional<? extends ImmutableSortedMap<String, String>> optional) {
+    @Nullable ImmutableSortedMap<String, String> value = optional.orElse(null);
+    if (this.sonameMergeMap == value) return this;
+    return new AndroidNativeLibsGraphEnhancementResult(this.copyNativeLibraries, this.unstrippedLibraries, value, this.sharedObjectTargets);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult#getSharedObjectTargets() sharedObjectTargets} attribute.
+   * @param value The value for sharedObjectTargets
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidNativeLibsGraphEnhancementResult withSharedObjectTargets(ImmutableSortedMap<String, ImmutableSortedSet<String>> value) {
+    @Nullable ImmutableSortedMap<String, ImmutableSortedSet<String>> newValue = Objects.requireNonNull(value, "sharedObjectTargets");
+    if (this.sharedObjectTargets == newValue) return this;
+    return new AndroidNativeLibsGraphEnhancementResult(this.copyNativeLibraries, this.unstrippedLibraries, this.sonameMergeMap, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult#getSharedObjectTargets() sharedObjectTargets} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sharedObjectTargets
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidNativeLibsGraphEnhancementResult withSharedObjectTargets(Optional<? extends ImmutableSortedMap<String, ImmutableSortedSet<String>>> optional) {
+    @Nullable ImmutableSortedMap<String, ImmutableSortedSet<String>> value = optional.orElse(null);
+    if (this.sharedObjectTargets == value) return this;
+    return new AndroidNativeLibsGraphEnhancementResult(this.copyNativeLibraries, this.unstrippedLibraries, this.sonameMergeMap, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidNativeLibsGraphEnhancementResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidNativeLibsGraphEnhancementResult
+        && equalTo((AndroidNativeLibsGraphEnhancementResult) another);
+  }
+
+  private boolean equalTo(AndroidNativeLibsGraphEnhancementResult another) {
+    return Objects.equals(copyNativeLibraries, another.copyNativeLibraries)
+        && Objects.equals(unstrippedLibraries, another.unstrippedLibraries)
+        && Objects.equals(sonameMergeMap, another.sonameMergeMap)
+        && Objects.equals(sharedObjectTargets, another.sharedObjectTargets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code copyNativeLibraries}, {@code unstrippedLibraries}, {@code sonameMergeMap}, {@code sharedObjectTargets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(copyNativeLibraries);
+    h += (h << 5) + Objects.hashCode(unstrippedLibraries);
+    h += (h << 5) + Objects.hashCode(sonameMergeMap);
+    h += (h << 5) + Objects.hashCode(sharedObjectTargets);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidNativeLibsGraphEnhancementResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidNativeLibsGraphEnhancementResult")
+        .omitNullValues()
+        .add("copyNativeLibraries", copyNativeLibraries)
+        .add("unstrippedLibraries", unstrippedLibraries)
+        .add("sonameMergeMap", sonameMergeMap)
+        .add("sharedObjectTargets", sharedObjectTargets)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AndroidNativeLibsGraphEnhancementResult instance
+   */
+  static AndroidNativeLibsGraphEnhancementResult copyOf(AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult instance) {
+    if (instance instanceof AndroidNativeLibsGraphEnhancementResult) {
+      return (AndroidNativeLibsGraphEnhancementResult) instance;
+    }
+    return AndroidNativeLibsGraphEnhancementResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidNativeLibsGraphEnhancementResult AndroidNativeLibsGraphEnhancementResult}.
+   * @return A new AndroidNativeLibsGraphEnhancementResult builder
+   */
+  public static AndroidNativeLibsGraphEnhancementResult.Builder builder() {
+    return new AndroidNativeLibsGraphEnhancementResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidNativeLibsGraphEnhancementResult AndroidNativeLibsGraphEnhancementResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable ImmutableMap<APKModule, CopyNativeLibraries> copyNativeLibraries;
+    private @Nullable ImmutableSortedSet<SourcePath> unstrippedLibraries;
+    private @Nullable ImmutableSortedMap<String, String> sonameMergeMap;
+    private @Nullable ImmutableSortedMap<String, ImmutableSortedSet<String>> sharedObjectTargets;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidNativeLibsGraphEnhancementResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidNativeLibsGraphEnhancementResult instance) {
+      return from((AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidNativeLibsGraphEnhancementResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<ImmutableMap<APKModule, CopyNativeLibraries>> copyNativeLibrariesOptional = instance.getCopyNativeLibraries();
+      if (copyNativeLibrariesOptional.isPresent()) {
+        setCopyNativeLibraries(copyNativeLibrariesOptional);
+      }
+      Optional<ImmutableSortedSet<SourcePath>> unstrippedLibrariesOptional = instance.getUnstrippedLibraries();
+      if (unstrippedLibrariesOptional.isPresent()) {
+        setUnstrippedLibraries(unstrippedLibrariesOptional);
+      }
+      Optional<ImmutableSortedMap<String, String>> sonameMergeMapOptional = instance.getSonameMergeMap();
+      if (sonameMergeMapOptional.isPresent()) {
+        setSonameMergeMap(sonameMergeMapOptional);
+      }
+      Optional<ImmutableSortedMap<String, ImmutableSortedSet<String>>> sharedObjectTargetsOptional = instance.getSharedObjectTargets();
+      if (sharedObjectTargetsOptional.isPresent()) {
+        setSharedObjectTargets(sharedObjectTargetsOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult#getCopyNativeLibraries() copyNativeLibraries} to copyNativeLibraries.
+     * @param copyNativeLibraries The value for copyNativeLibraries
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCopyNativeLibraries(ImmutableMap<APKModule, CopyNativeLibraries> copyNativeLibraries) {
+      this.copyNativeLibraries = Objects.requireNonNull(copyNativeLibraries, "copyNativeLibraries");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult#getCopyNativeLibraries() copyNativeLibraries} to copyNativeLibraries.
+     * @param copyNativeLibraries The value for copyNativeLibraries
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCopyNativeLibraries(Optional<? extends ImmutableMap<APKModule, CopyNativeLibraries>> copyNativeLibraries) {
+      this.copyNativeLibraries = copyNativeLibraries.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult#getUnstrippedLibraries() unstrippedLibraries} to unstrippedLibraries.
+     * @param unstrippedLibraries The value for unstrippedLibraries
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUnstrippedLibraries(ImmutableSortedSet<SourcePath> unstrippedLibraries) {
+      this.unstrippedLibraries = Objects.requireNonNull(unstrippedLibraries, "unstrippedLibraries");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult#getUnstrippedLibraries() unstrippedLibraries} to unstrippedLibraries.
+     * @param unstrippedLibraries The value for unstrippedLibraries
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUnstrippedLibraries(Optional<? extends ImmutableSortedSet<SourcePath>> unstrippedLibraries) {
+      this.unstrippedLibraries = unstrippedLibraries.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult#getSonameMergeMap() sonameMergeMap} to sonameMergeMap.
+     * @param sonameMergeMap The value for sonameMergeMap
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSonameMergeMap(ImmutableSortedMap<String, String> sonameMergeMap) {
+      this.sonameMergeMap = Objects.requireNonNull(sonameMergeMap, "sonameMergeMap");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult#getSonameMergeMap() sonameMergeMap} to sonameMergeMap.
+     * @param sonameMergeMap The value for sonameMergeMap
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSonameMergeMap(Optional<? extends ImmutableSortedMap<String, String>> sonameMergeMap) {
+      this.sonameMergeMap = sonameMergeMap.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult#getSharedObjectTargets() sharedObjectTargets} to sharedObjectTargets.
+     * @param sharedObjectTargets The value for sharedObjectTargets
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSharedObjectTargets(ImmutableSortedMap<String, ImmutableSortedSet<String>> sharedObjectTargets) {
+      this.sharedObjectTargets = Objects.requireNonNull(sharedObjectTargets, "sharedObjectTargets");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult#getSharedObjectTargets() sharedObjectTargets} to sharedObjectTargets.
+     * @param sharedObjectTargets The value for sharedObjectTargets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSharedObjectTargets(Optional<? extends ImmutableSortedMap<String, ImmutableSortedSet<String>>> sharedObjectTargets) {
+      this.sharedObjectTargets = sharedObjectTargets.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidNativeLibsGraphEnhancementResult AndroidNativeLibsGraphEnhancementResult}.
+     * @return An immutable instance of AndroidNativeLibsGraphEnhancementResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidNativeLibsGraphEnhancementResult build() {
+      return new AndroidNativeLibsGraphEnhancementResult(copyNativeLibraries, unstrippedLibraries, sonameMergeMap, sharedObjectTargets);
+    }
+  }
+}
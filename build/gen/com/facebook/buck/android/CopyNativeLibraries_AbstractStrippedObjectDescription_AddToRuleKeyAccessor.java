@@ -0,0 +1,28 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.android;
+
+public final class CopyNativeLibraries_AbstractStrippedObjectDescription_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("getTargetCpuType()", "getStrippedObjectName()", "getSourcePath()"));
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        return ((com.facebook.buck.android.CopyNativeLibraries.AbstractStrippedObjectDescription) instance).getTargetCpuType();
+      case 1:
+        return ((com.facebook.buck.android.CopyNativeLibraries.AbstractStrippedObjectDescription) instance).getStrippedObjectName();
+      case 2:
+        return ((com.facebook.buck.android.CopyNativeLibraries.AbstractStrippedObjectDescription) instance).getSourcePath();
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+}
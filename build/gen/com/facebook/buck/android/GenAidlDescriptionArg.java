@@ -0,0 +1,555 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link GenAidlDescription.AbstractGenAidlDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code GenAidlDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "GenAidlDescription.AbstractGenAidlDescriptionArg"})
+@Immutable
+public final class GenAidlDescriptionArg
+    implements GenAidlDescription.AbstractGenAidlDescriptionArg {
+  private final SourcePath aidl;
+  private final String importPath;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private GenAidlDescriptionArg(
+      SourcePath aidl,
+      String importPath,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.aidl = aidl;
+    this.importPath = importPath;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+  }
+
+  /**
+   * @return The value of the {@code aidl} attribute
+   */
+  @Override
+  public SourcePath getAidl() {
+    return aidl;
+  }
+
+  /**
+   * @return The value of the {@code importPath} attribute
+   */
+  @Override
+  public String getImportPath() {
+    return importPath;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getAidl() aidl} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for aidl
+   * @return A modified copy of the {@code this} object
+   */
+  public final GenAidlDescriptionArg withAidl(SourcePath value) {
+    if (this.aidl == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "aidl");
+    return new GenAidlDescriptionArg(newValue, this.importPath, this.name, this.licenses, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getImportPath() importPath} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for importPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final GenAidlDescriptionArg withImportPath(String value) {
+    if (this.importPath.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "importPath");
+    return new GenAidlDescriptionArg(this.aidl, newValue, this.name, this.licenses, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final GenAidlDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new GenAidlDescriptionArg(this.aidl, this.importPath, newValue, this.licenses, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenAidlDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new GenAidlDescriptionArg(this.aidl, this.importPath, this.name, newValue, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenAidlDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new GenAidlDescriptionArg(this.aidl, this.importPath, this.name, newValue, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenAidlDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new GenAidlDescriptionArg(this.aidl, this.importPath, this.name, this.licenses, newValue, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenAidlDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new GenAidlDescriptionArg(this.aidl, this.importPath, this.name, this.licenses, newValue, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenAidlDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new GenAidlDescriptionArg(this.aidl, this.importPath, this.name, this.licenses, this.labels, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenAidlDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new GenAidlDescriptionArg(this.aidl, this.importPath, this.name, this.licenses, this.labels, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code GenAidlDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof GenAidlDescriptionArg
+        && equalTo((GenAidlDescriptionArg) another);
+  }
+
+  private boolean equalTo(GenAidlDescriptionArg another) {
+    return aidl.equals(another.aidl)
+        && importPath.equals(another.importPath)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code aidl}, {@code importPath}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + aidl.hashCode();
+    h += (h << 5) + importPath.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GenAidlDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GenAidlDescriptionArg")
+        .omitNullValues()
+        .add("aidl", aidl)
+        .add("importPath", importPath)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link GenAidlDescription.AbstractGenAidlDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable GenAidlDescriptionArg instance
+   */
+  static GenAidlDescriptionArg copyOf(GenAidlDescription.AbstractGenAidlDescriptionArg instance) {
+    if (instance instanceof GenAidlDescriptionArg) {
+      return (GenAidlDescriptionArg) instance;
+    }
+    return GenAidlDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link GenAidlDescriptionArg GenAidlDescriptionArg}.
+   * @return A new GenAidlDescriptionArg builder
+   */
+  public static GenAidlDescriptionArg.Builder builder() {
+    return new GenAidlDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link GenAidlDescriptionArg GenAidlDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_AIDL = 0x1L;
+    private static final long INIT_BIT_IMPORT_PATH = 0x2L;
+    private static final long INIT_BIT_NAME = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable SourcePath aidl;
+    private @Nullable String importPath;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code GenAidlDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(GenAidlDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractGenAidlDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(GenAidlDescription.AbstractGenAidlDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof GenAidlDescription.AbstractGenAidlDescriptionArg) {
+        GenAidlDescription.AbstractGenAidlDescriptionArg instance = (GenAidlDescription.AbstractGenAidlDescriptionArg) object;
+        setImportPath(instance.getImportPath());
+        setAidl(instance.getAidl());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getAidl() aidl} attribute.
+     * @param aidl The value for aidl 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAidl(SourcePath aidl) {
+      this.aidl = Objects.requireNonNull(aidl, "aidl");
+      initBits &= ~INIT_BIT_AIDL;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getImportPath() importPath} attribute.
+     * @param importPath The value for importPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setImportPath(String importPath) {
+      this.importPath = Objects.requireNonNull(importPath, "importPath");
+      initBits &= ~INIT_BIT_IMPORT_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link GenAidlDescription.AbstractGenAidlDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link GenAidlDescriptionArg GenAidlDescriptionArg}.
+     * @return An immutable instance of GenAidlDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public GenAidlDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new GenAidlDescriptionArg(aidl, importPath, name, licenses.build(), labels.build(), deps.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_AIDL) != 0) attributes.add("aidl");
+      if ((initBits & INIT_BIT_IMPORT_PATH) != 0) attributes.add("importPath");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build GenAidlDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,268 @@
+package com.facebook.buck.android;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractNdkCxxPlatformCompiler}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code NdkCxxPlatformCompiler.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNdkCxxPlatformCompiler"})
+@Immutable
+public final class NdkCxxPlatformCompiler implements AbstractNdkCxxPlatformCompiler {
+  private final AbstractNdkCxxPlatformCompiler.Type type;
+  private final String version;
+  private final String gccVersion;
+
+  private NdkCxxPlatformCompiler(
+      AbstractNdkCxxPlatformCompiler.Type type,
+      String version,
+      String gccVersion) {
+    this.type = type;
+    this.version = version;
+    this.gccVersion = gccVersion;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public AbstractNdkCxxPlatformCompiler.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return the compiler version, corresponding to either `gcc_version` or `clang_version` from the
+   *     .buckconfig settings, depending on which compiler family was selected.
+   */
+  @Override
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+   * @return the GCC compiler version. Since even runtimes which are not GCC-based need to use GCC
+   *     tools (e.g. ar, as,, ld.gold), we need to *always* have a version of GCC.
+   */
+  @Override
+  public String getGccVersion() {
+    return gccVersion;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNdkCxxPlatformCompiler#getType() type} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformCompiler withType(AbstractNdkCxxPlatformCompiler.Type value) {
+    if (this.type == value) return this;
+    AbstractNdkCxxPlatformCompiler.Type newValue = Objects.requireNonNull(value, "type");
+    return new NdkCxxPlatformCompiler(newValue, this.version, this.gccVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNdkCxxPlatformCompiler#getVersion() version} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for version
+   * @return A modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformCompiler withVersion(String value) {
+    if (this.version.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "version");
+    return new NdkCxxPlatformCompiler(this.type, newValue, this.gccVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNdkCxxPlatformCompiler#getGccVersion() gccVersion} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for gccVersion
+   * @return A modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformCompiler withGccVersion(String value) {
+    if (this.gccVersion.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "gccVersion");
+    return new NdkCxxPlatformCompiler(this.type, this.version, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NdkCxxPlatformCompiler} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NdkCxxPlatformCompiler
+        && equalTo((NdkCxxPlatformCompiler) another);
+  }
+
+  private boolean equalTo(NdkCxxPlatformCompiler another) {
+    return type.equals(another.type)
+        && version.equals(another.version)
+        && gccVersion.equals(another.gccVersion);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code version}, {@code gccVersion}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + version.hashCode();
+    h += (h << 5) + gccVersion.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NdkCxxPlatformCompiler} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NdkCxxPlatformCompiler")
+        .omitNullValues()
+        .add("type", type)
+        .add("version", version)
+        .add("gccVersion", gccVersion)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractNdkCxxPlatformCompiler} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable NdkCxxPlatformCompiler instance
+   */
+  static NdkCxxPlatformCompiler copyOf(AbstractNdkCxxPlatformCompiler instance) {
+    if (instance instanceof NdkCxxPlatformCompiler) {
+      return (NdkCxxPlatformCompiler) instance;
+    }
+    return NdkCxxPlatformCompiler.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link NdkCxxPlatformCompiler NdkCxxPlatformCompiler}.
+   * @return A new NdkCxxPlatformCompiler builder
+   */
+  public static NdkCxxPlatformCompiler.Builder builder() {
+    return new NdkCxxPlatformCompiler.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link NdkCxxPlatformCompiler NdkCxxPlatformCompiler}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TYPE = 0x1L;
+    private static final long INIT_BIT_VERSION = 0x2L;
+    private static final long INIT_BIT_GCC_VERSION = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable AbstractNdkCxxPlatformCompiler.Type type;
+    private @Nullable String version;
+    private @Nullable String gccVersion;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NdkCxxPlatformCompiler} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(NdkCxxPlatformCompiler instance) {
+      return from((AbstractNdkCxxPlatformCompiler) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractNdkCxxPlatformCompiler} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractNdkCxxPlatformCompiler instance) {
+      Objects.requireNonNull(instance, "instance");
+      setType(instance.getType());
+      setVersion(instance.getVersion());
+      setGccVersion(instance.getGccVersion());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractNdkCxxPlatformCompiler#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setType(AbstractNdkCxxPlatformCompiler.Type type) {
+      this.type = Objects.requireNonNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNdkCxxPlatformCompiler#getVersion() version} attribute.
+     * @param version The value for version 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersion(String version) {
+      this.version = Objects.requireNonNull(version, "version");
+      initBits &= ~INIT_BIT_VERSION;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNdkCxxPlatformCompiler#getGccVersion() gccVersion} attribute.
+     * @param gccVersion The value for gccVersion 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGccVersion(String gccVersion) {
+      this.gccVersion = Objects.requireNonNull(gccVersion, "gccVersion");
+      initBits &= ~INIT_BIT_GCC_VERSION;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link NdkCxxPlatformCompiler NdkCxxPlatformCompiler}.
+     * @return An immutable instance of NdkCxxPlatformCompiler
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NdkCxxPlatformCompiler build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new NdkCxxPlatformCompiler(type, version, gccVersion);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      if ((initBits & INIT_BIT_VERSION) != 0) attributes.add("version");
+      if ((initBits & INIT_BIT_GCC_VERSION) != 0) attributes.add("gccVersion");
+      return "Cannot build NdkCxxPlatformCompiler, some of required attributes are not set " + attributes;
+    }
+  }
+}
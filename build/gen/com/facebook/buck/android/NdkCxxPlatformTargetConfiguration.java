@@ -0,0 +1,694 @@
+package com.facebook.buck.android;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *A container for all configuration settings needed to define a build target. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNdkCxxPlatformTargetConfiguration"})
+@Immutable
+public final class NdkCxxPlatformTargetConfiguration
+    extends AbstractNdkCxxPlatformTargetConfiguration {
+  private final NdkCxxPlatforms.Toolchain toolchain;
+  private final NdkCxxPlatforms.ToolchainTarget toolchainTarget;
+  private final NdkCxxPlatforms.TargetArch targetArch;
+  private final NdkCxxPlatforms.TargetArchAbi targetArchAbi;
+  private final String targetAppPlatform;
+  private final NdkCxxPlatformCompiler compiler;
+  private final ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> compilerFlags;
+  private final ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> assemblerFlags;
+  private final ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> linkerFlags;
+
+  private NdkCxxPlatformTargetConfiguration(
+      NdkCxxPlatforms.Toolchain toolchain,
+      NdkCxxPlatforms.ToolchainTarget toolchainTarget,
+      NdkCxxPlatforms.TargetArch targetArch,
+      NdkCxxPlatforms.TargetArchAbi targetArchAbi,
+      String targetAppPlatform,
+      NdkCxxPlatformCompiler compiler,
+      ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> compilerFlags,
+      ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> assemblerFlags,
+      ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> linkerFlags) {
+    this.toolchain = toolchain;
+    this.toolchainTarget = toolchainTarget;
+    this.targetArch = targetArch;
+    this.targetArchAbi = targetArchAbi;
+    this.targetAppPlatform = targetAppPlatform;
+    this.compiler = compiler;
+    this.compilerFlags = compilerFlags;
+    this.assemblerFlags = assemblerFlags;
+    this.linkerFlags = linkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code toolchain} attribute
+   */
+  @Override
+  public NdkCxxPlatforms.Toolchain getToolchain() {
+    return toolchain;
+  }
+
+  /**
+   * @return The value of the {@code toolchainTarget} attribute
+   */
+  @Override
+  public NdkCxxPlatforms.ToolchainTarget getToolchainTarget() {
+    return toolchainTarget;
+  }
+
+  /**
+   * @return The value of the {@code targetArch} attribute
+   */
+  @Override
+  public NdkCxxPlatforms.TargetArch getTargetArch() {
+    return targetArch;
+  }
+
+  /**
+   * @return The value of the {@code targetArchAbi} attribute
+   */
+  @Override
+  public NdkCxxPlatforms.TargetArchAbi getTargetArchAbi() {
+    return targetArchAbi;
+  }
+
+  /**
+   * @return The value of the {@code targetAppPlatform} attribute
+   */
+  @Override
+  public String getTargetAppPlatform() {
+    return targetAppPlatform;
+  }
+
+  /**
+   * @return The value of the {@code compiler} attribute
+   */
+  @Override
+  public NdkCxxPlatformCompiler getCompiler() {
+    return compiler;
+  }
+
+  /**
+   * @return The value of the {@code compilerFlags} attribute
+   */
+  @Override
+  public ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> getCompilerFlags() {
+    return compilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code assemblerFlags} attribute
+   */
+  @Override
+  public ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> getAssemblerFlags() {
+    return assemblerFlags;
+  }
+
+  /**
+   * @return The value of the {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNdkCxxPlatformTargetConfiguration#getToolchain() toolchain} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for toolchain
+   * @return A modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withToolchain(NdkCxxPlatforms.Toolchain value) {
+    if (this.toolchain == value) return this;
+    NdkCxxPlatforms.Toolchain newValue = Objects.requireNonNull(value, "toolchain");
+    return new NdkCxxPlatformTargetConfiguration(
+        newValue,
+        this.toolchainTarget,
+        this.targetArch,
+        this.targetArchAbi,
+        this.targetAppPlatform,
+        this.compiler,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNdkCxxPlatformTargetConfiguration#getToolchainTarget() toolchainTarget} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for toolchainTarget
+   * @return A modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withToolchainTarget(NdkCxxPlatforms.ToolchainTarget value) {
+    if (this.toolchainTarget == value) return this;
+    NdkCxxPlatforms.ToolchainTarget newValue = Objects.requireNonNull(value, "toolchainTarget");
+    return new NdkCxxPlatformTargetConfiguration(
+        this.toolchain,
+        newValue,
+        this.targetArch,
+        this.targetArchAbi,
+        this.targetAppPlatform,
+        this.compiler,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNdkCxxPlatformTargetConfiguration#getTargetArch() targetArch} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for targetArch
+   * @return A modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withTargetArch(NdkCxxPlatforms.TargetArch value) {
+    if (this.targetArch == value) return this;
+    NdkCxxPlatforms.TargetArch newValue = Objects.requireNonNull(value, "targetArch");
+    return new NdkCxxPlatformTargetConfiguration(
+        this.toolchain,
+        this.toolchainTarget,
+        newValue,
+        this.targetArchAbi,
+        this.targetAppPlatform,
+        this.compiler,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNdkCxxPlatformTargetConfiguration#getTargetArchAbi() targetArchAbi} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for targetArchAbi
+   * @return A modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withTargetArchAbi(NdkCxxPlatforms.TargetArchAbi value) {
+    if (this.targetArchAbi == value) return this;
+    NdkCxxPlatforms.TargetArchAbi newValue = Objects.requireNonNull(value, "targetArchAbi");
+    return new NdkCxxPlatformTargetConfiguration(
+        this.toolchain,
+        this.toolchainTarget,
+        this.targetArch,
+        newValue,
+        this.targetAppPlatform,
+        this.compiler,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNdkCxxPlatformTargetConfiguration#getTargetAppPlatform() targetAppPlatform} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for targetAppPlatform
+   * @return A modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withTargetAppPlatform(String value) {
+    if (this.targetAppPlatform.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "targetAppPlatform");
+    return new NdkCxxPlatformTargetConfiguration(
+        this.toolchain,
+        this.toolchainTarget,
+        this.targetArch,
+        this.targetArchAbi,
+        newValue,
+        this.compiler,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNdkCxxPlatformTargetConfiguration#getCompiler() compiler} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for compiler
+   * @return A modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withCompiler(NdkCxxPlatformCompiler value) {
+    if (this.compiler == value) return this;
+    NdkCxxPlatformCompiler newValue = Objects.requireNonNull(value, "compiler");
+    return new NdkCxxPlatformTargetConfiguration(
+        this.toolchain,
+        this.toolchainTarget,
+        this.targetArch,
+        this.targetArchAbi,
+        this.targetAppPlatform,
+        newValue,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractNdkCxxPlatformTargetConfiguration#getCompilerFlags() compilerFlags} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the compilerFlags map
+   * @return A modified copy of {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withCompilerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entries) {
+    if (this.compilerFlags == entries) return this;
+    ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> newValue = ImmutableMap.copyOf(entries);
+    return new NdkCxxPlatformTargetConfiguration(
+        this.toolchain,
+        this.toolchainTarget,
+        this.targetArch,
+        this.targetArchAbi,
+        this.targetAppPlatform,
+        this.compiler,
+        newValue,
+        this.assemblerFlags,
+        this.linkerFlags);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractNdkCxxPlatformTargetConfiguration#getAssemblerFlags() assemblerFlags} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the assemblerFlags map
+   * @return A modified copy of {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withAssemblerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entries) {
+    if (this.assemblerFlags == entries) return this;
+    ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> newValue = ImmutableMap.copyOf(entries);
+    return new NdkCxxPlatformTargetConfiguration(
+        this.toolchain,
+        this.toolchainTarget,
+        this.targetArch,
+        this.targetArchAbi,
+        this.targetAppPlatform,
+        this.compiler,
+        this.compilerFlags,
+        newValue,
+        this.linkerFlags);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractNdkCxxPlatformTargetConfiguration#getLinkerFlags() linkerFlags} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the linkerFlags map
+   * @return A modified copy of {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withLinkerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entries) {
+    if (this.linkerFlags == entries) return this;
+    ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> newValue = ImmutableMap.copyOf(entries);
+    return new NdkCxxPlatformTargetConfiguration(
+        this.toolchain,
+        this.toolchainTarget,
+        this.targetArch,
+        this.targetArchAbi,
+        this.targetAppPlatform,
+        this.compiler,
+        this.compilerFlags,
+        this.assemblerFlags,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NdkCxxPlatformTargetConfiguration} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NdkCxxPlatformTargetConfiguration
+        && equalTo((NdkCxxPlatformTargetConfiguration) another);
+  }
+
+  private boolean equalTo(NdkCxxPlatformTargetConfiguration another) {
+    return toolchain.equals(another.toolchain)
+        && toolchainTarget.equals(another.toolchainTarget)
+        && targetArch.equals(another.targetArch)
+        && targetArchAbi.equals(another.targetArchAbi)
+        && targetAppPlatform.equals(another.targetAppPlatform)
+        && compiler.equals(another.compiler)
+        && compilerFlags.equals(another.compilerFlags)
+        && assemblerFlags.equals(another.assemblerFlags)
+        && linkerFlags.equals(another.linkerFlags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code toolchain}, {@code toolchainTarget}, {@code targetArch}, {@code targetArchAbi}, {@code targetAppPlatform}, {@code compiler}, {@code compilerFlags}, {@code assemblerFlags}, {@code linkerFlags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + toolchain.hashCode();
+    h += (h << 5) + toolchainTarget.hashCode();
+    h += (h << 5) + targetArch.hashCode();
+    h += (h << 5) + targetArchAbi.hashCode();
+    h += (h << 5) + targetAppPlatform.hashCode();
+    h += (h << 5) + compiler.hashCode();
+    h += (h << 5) + compilerFlags.hashCode();
+    h += (h << 5) + assemblerFlags.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NdkCxxPlatformTargetConfiguration} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NdkCxxPlatformTargetConfiguration")
+        .omitNullValues()
+        .add("toolchain", toolchain)
+        .add("toolchainTarget", toolchainTarget)
+        .add("targetArch", targetArch)
+        .add("targetArchAbi", targetArchAbi)
+        .add("targetAppPlatform", targetAppPlatform)
+        .add("compiler", compiler)
+        .add("compilerFlags", compilerFlags)
+        .add("assemblerFlags", assemblerFlags)
+        .add("linkerFlags", linkerFlags)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractNdkCxxPlatformTargetConfiguration} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable NdkCxxPlatformTargetConfiguration instance
+   */
+  static NdkCxxPlatformTargetConfiguration copyOf(AbstractNdkCxxPlatformTargetConfiguration instance) {
+    if (instance instanceof NdkCxxPlatformTargetConfiguration) {
+      return (NdkCxxPlatformTargetConfiguration) instance;
+    }
+    return NdkCxxPlatformTargetConfiguration.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link NdkCxxPlatformTargetConfiguration NdkCxxPlatformTargetConfiguration}.
+   * @return A new NdkCxxPlatformTargetConfiguration builder
+   */
+  public static NdkCxxPlatformTargetConfiguration.Builder builder() {
+    return new NdkCxxPlatformTargetConfiguration.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link NdkCxxPlatformTargetConfiguration NdkCxxPlatformTargetConfiguration}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TOOLCHAIN = 0x1L;
+    private static final long INIT_BIT_TOOLCHAIN_TARGET = 0x2L;
+    private static final long INIT_BIT_TARGET_ARCH = 0x4L;
+    private static final long INIT_BIT_TARGET_ARCH_ABI = 0x8L;
+    private static final long INIT_BIT_TARGET_APP_PLATFORM = 0x10L;
+    private static final long INIT_BIT_COMPILER = 0x20L;
+    private long initBits = 0x3fL;
+
+    private @Nullable NdkCxxPlatforms.Toolchain toolchain;
+    private @Nullable NdkCxxPlatforms.ToolchainTarget toolchainTarget;
+    private @Nullable NdkCxxPlatforms.TargetArch targetArch;
+    private @Nullable NdkCxxPlatforms.TargetArchAbi targetArchAbi;
+    private @Nullable String targetAppPlatform;
+    private @Nullable NdkCxxPlatformCompiler compiler;
+    private ImmutableMap.Builder<NdkCxxPlatformCompiler.Type, ImmutableList<String>> compilerFlags = ImmutableMap.builder();
+    private ImmutableMap.Builder<NdkCxxPlatformCompiler.Type, ImmutableList<String>> assemblerFlags = ImmutableMap.builder();
+    private ImmutableMap.Builder<NdkCxxPlatformCompiler.Type, ImmutableList<String>> linkerFlags = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NdkCxxPlatformTargetConfiguration} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(NdkCxxPlatformTargetConfiguration instance) {
+      return from((AbstractNdkCxxPlatformTargetConfiguration) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractNdkCxxPlatformTargetConfiguration} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractNdkCxxPlatformTargetConfiguration instance) {
+      Objects.requireNonNull(instance, "instance");
+      setToolchain(instance.getToolchain());
+      setToolchainTarget(instance.getToolchainTarget());
+      setTargetArch(instance.getTargetArch());
+      setTargetArchAbi(instance.getTargetArchAbi());
+      setTargetAppPlatform(instance.getTargetAppPlatform());
+      setCompiler(instance.getCompiler());
+      putAllCompilerFlags(instance.getCompilerFlags());
+      putAllAssemblerFlags(instance.getAssemblerFlags());
+      putAllLinkerFlags(instance.getLinkerFlags());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractNdkCxxPlatformTargetConfiguration#getToolchain() toolchain} attribute.
+     * @param toolchain The value for toolchain 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setToolchain(NdkCxxPlatforms.Toolchain toolchain) {
+      this.toolchain = Objects.requireNonNull(toolchain, "toolchain");
+      initBits &= ~INIT_BIT_TOOLCHAIN;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNdkCxxPlatformTargetConfiguration#getToolchainTarget() toolchainTarget} attribute.
+     * @param toolchainTarget The value for toolchainTarget 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setToolchainTarget(NdkCxxPlatforms.ToolchainTarget toolchainTarget) {
+      this.toolchainTarget = Objects.requireNonNull(toolchainTarget, "toolchainTarget");
+      initBits &= ~INIT_BIT_TOOLCHAIN_TARGET;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNdkCxxPlatformTargetConfiguration#getTargetArch() targetArch} attribute.
+     * @param targetArch The value for targetArch 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTargetArch(NdkCxxPlatforms.TargetArch targetArch) {
+      this.targetArch = Objects.requireNonNull(targetArch, "targetArch");
+      initBits &= ~INIT_BIT_TARGET_ARCH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNdkCxxPlatformTargetConfiguration#getTargetArchAbi() targetArchAbi} attribute.
+     * @param targetArchAbi The value for targetArchAbi 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTargetArchAbi(NdkCxxPlatforms.TargetArchAbi targetArchAbi) {
+      this.targetArchAbi = Objects.requireNonNull(targetArchAbi, "targetArchAbi");
+      initBits &= ~INIT_BIT_TARGET_ARCH_ABI;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNdkCxxPlatformTargetConfiguration#getTargetAppPlatform() targetAppPlatform} attribute.
+     * @param targetAppPlatform The value for targetAppPlatform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTargetAppPlatform(String targetAppPlatform) {
+      this.targetAppPlatform = Objects.requireNonNull(targetAppPlatform, "targetAppPlatform");
+      initBits &= ~INIT_BIT_TARGET_APP_PLATFORM;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNdkCxxPlatformTargetConfiguration#getCompiler() compiler} attribute.
+     * @param compiler The value for compiler 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompiler(NdkCxxPlatformCompiler compiler) {
+      this.compiler = Objects.requireNonNull(compiler, "compiler");
+      initBits &= ~INIT_BIT_COMPILER;
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link AbstractNdkCxxPlatformTargetConfiguration#getCompilerFlags() compilerFlags} map.
+     * @param key The key in the compilerFlags map
+     * @param value The associated value in the compilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putCompilerFlags(NdkCxxPlatformCompiler.Type key, ImmutableList<String> value) {
+      this.compilerFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractNdkCxxPlatformTargetConfiguration#getCompilerFlags() compilerFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putCompilerFlags(Map.Entry<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entry) {
+      this.compilerFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractNdkCxxPlatformTargetConfiguration#getCompilerFlags() compilerFlags} map. Nulls are not permitted
+     * @param compilerFlags The entries that will be added to the compilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> compilerFlags) {
+      this.compilerFlags = ImmutableMap.builder();
+      return putAllCompilerFlags(compilerFlags);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractNdkCxxPlatformTargetConfiguration#getCompilerFlags() compilerFlags} map. Nulls are not permitted
+     * @param compilerFlags The entries that will be added to the compilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllCompilerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> compilerFlags) {
+      this.compilerFlags.putAll(compilerFlags);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractNdkCxxPlatformTargetConfiguration#getAssemblerFlags() assemblerFlags} map.
+     * @param key The key in the assemblerFlags map
+     * @param value The associated value in the assemblerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAssemblerFlags(NdkCxxPlatformCompiler.Type key, ImmutableList<String> value) {
+      this.assemblerFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractNdkCxxPlatformTargetConfiguration#getAssemblerFlags() assemblerFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAssemblerFlags(Map.Entry<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entry) {
+      this.assemblerFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractNdkCxxPlatformTargetConfiguration#getAssemblerFlags() assemblerFlags} map. Nulls are not permitted
+     * @param assemblerFlags The entries that will be added to the assemblerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAssemblerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> assemblerFlags) {
+      this.assemblerFlags = ImmutableMap.builder();
+      return putAllAssemblerFlags(assemblerFlags);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractNdkCxxPlatformTargetConfiguration#getAssemblerFlags() assemblerFlags} map. Nulls are not permitted
+     * @param assemblerFlags The entries that will be added to the assemblerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllAssemblerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> assemblerFlags) {
+      this.assemblerFlags.putAll(assemblerFlags);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractNdkCxxPlatformTargetConfiguration#getLinkerFlags() linkerFlags} map.
+     * @param key The key in the linkerFlags map
+     * @param value The associated value in the linkerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putLinkerFlags(NdkCxxPlatformCompiler.Type key, ImmutableList<String> value) {
+      this.linkerFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractNdkCxxPlatformTargetConfiguration#getLinkerFlags() linkerFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putLinkerFlags(Map.Entry<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entry) {
+      this.linkerFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractNdkCxxPlatformTargetConfiguration#getLinkerFlags() linkerFlags} map. Nulls are not permitted
+     * @param linkerFlags The entries that will be added to the linkerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> linkerFlags) {
+      this.linkerFlags = ImmutableMap.builder();
+      return putAllLinkerFlags(linkerFlags);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractNdkCxxPlatformTargetConfiguration#getLinkerFlags() linkerFlags} map. Nulls are not permitted
+     * @param linkerFlags The entries that will be added to the linkerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllLinkerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> linkerFlags) {
+      this.linkerFlags.putAll(linkerFlags);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link NdkCxxPlatformTargetConfiguration NdkCxxPlatformTargetConfiguration}.
+     * @return An immutable instance of NdkCxxPlatformTargetConfiguration
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NdkCxxPlatformTargetConfiguration build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new NdkCxxPlatformTargetConfiguration(
+          toolchain,
+          toolchainTarget,
+          targetArch,
+          targetArchAbi,
+          targetAppPlatform,
+          compiler,
+          compilerFlags.build(),
+          assemblerFlags.build(),
+          linkerFlags.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TOOLCHAIN) != 0) attributes.add("toolchain");
+      if ((initBits & INIT_BIT_TOOLCHAIN_TARGET) != 0) attributes.add("toolchainTarget");
+      if ((initBits & INIT_BIT_TARGET_ARCH) != 0) attributes.add("targetArch");
+      if ((initBits & INIT_BIT_TARGET_ARCH_ABI) != 0) attributes.add("targetArchAbi");
+      if ((initBits & INIT_BIT_TARGET_APP_PLATFORM) != 0) attributes.add("targetAppPlatform");
+      if ((initBits & INIT_BIT_COMPILER) != 0) attributes.add("compiler");
+      return "Cannot build NdkCxxPlatformTargetConfiguration, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,217 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.android;
+
+public final class NonPreDexedDexBuildable_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.lang.invoke.MethodHandle MEMBER_0 = getter("aaptGeneratedProguardConfigFile");
+  private static final java.lang.invoke.MethodHandle MEMBER_1 = getter("additionalJarsForProguard");
+  private static final java.lang.invoke.MethodHandle MEMBER_2 = getter("apkModuleMap");
+  private static final java.lang.invoke.MethodHandle MEMBER_3 = getter("classpathEntriesToDexSourcePaths");
+  private static final java.lang.invoke.MethodHandle MEMBER_4 = getter("dexReorderDataDumpFile");
+  private static final java.lang.invoke.MethodHandle MEMBER_5 = getter("dexReorderToolFile");
+  private static final java.lang.invoke.MethodHandle MEMBER_6 = getter("dexSplitMode");
+  private static final java.lang.invoke.MethodHandle MEMBER_7 = getter("dxMaxHeapSize");
+  private static final java.lang.invoke.MethodHandle MEMBER_8 = getter("javaRuntimeLauncher");
+  private static final java.lang.invoke.MethodHandle MEMBER_9 = getter("moduleMappedClasspathEntriesToDex");
+  private static final java.lang.invoke.MethodHandle MEMBER_10 = getter("optimizationPasses");
+  private static final java.lang.invoke.MethodHandle MEMBER_11 = getter("shouldProguard");
+  private static final java.lang.invoke.MethodHandle MEMBER_12 = getter("preprocessJavaClassesBash");
+  private static final java.lang.invoke.MethodHandle MEMBER_13 = getter("proguardAgentPath");
+  private static final java.lang.invoke.MethodHandle MEMBER_14 = getter("proguardConfig");
+  private static final java.lang.invoke.MethodHandle MEMBER_15 = getter("proguardConfigs");
+  private static final java.lang.invoke.MethodHandle MEMBER_16 = getter("proguardJarOverride");
+  private static final java.lang.invoke.MethodHandle MEMBER_17 = getter("proguardJvmArgs");
+  private static final java.lang.invoke.MethodHandle MEMBER_18 = getter("proguardMaxHeapSize");
+  private static final java.lang.invoke.MethodHandle MEMBER_19 = getter("reorderClassesIntraDex");
+  private static final java.lang.invoke.MethodHandle MEMBER_20 = getter("rootAPKModule");
+  private static final java.lang.invoke.MethodHandle MEMBER_21 = getter("sdkProguardConfig");
+  private static final java.lang.invoke.MethodHandle MEMBER_22 = getter("skipProguard");
+  private static final java.lang.invoke.MethodHandle MEMBER_23 = getter("xzCompressionLevel");
+  private static final java.lang.invoke.MethodHandle MEMBER_24 = getter("shouldSplitDex");
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("aaptGeneratedProguardConfigFile", "additionalJarsForProguard", "apkModuleMap", "classpathEntriesToDexSourcePaths", "dexReorderDataDumpFile", "dexReorderToolFile", "dexSplitMode", "dxMaxHeapSize", "javaRuntimeLauncher", "moduleMappedClasspathEntriesToDex", "optimizationPasses", "shouldProguard", "preprocessJavaClassesBash", "proguardAgentPath", "proguardConfig", "proguardConfigs", "proguardJarOverride", "proguardJvmArgs", "proguardMaxHeapSize", "reorderClassesIntraDex", "rootAPKModule", "sdkProguardConfig", "skipProguard", "xzCompressionLevel", "shouldSplitDex"));
+
+  @java.lang.Override
+  public java.lang.Class<?> getTargetClass() {
+    return com.facebook.buck.android.NonPreDexedDexBuildable.class;
+  }
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        try {
+          return MEMBER_0.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 1:
+        try {
+          return MEMBER_1.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 2:
+        try {
+          return MEMBER_2.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 3:
+        try {
+          return MEMBER_3.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 4:
+        try {
+          return MEMBER_4.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 5:
+        try {
+          return MEMBER_5.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 6:
+        try {
+          return MEMBER_6.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 7:
+        try {
+          return MEMBER_7.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 8:
+        try {
+          return MEMBER_8.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 9:
+        try {
+          return MEMBER_9.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 10:
+        try {
+          return MEMBER_10.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 11:
+        try {
+          return MEMBER_11.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 12:
+        try {
+          return MEMBER_12.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 13:
+        try {
+          return MEMBER_13.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 14:
+        try {
+          return MEMBER_14.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 15:
+        try {
+          return MEMBER_15.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 16:
+        try {
+          return MEMBER_16.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 17:
+        try {
+          return MEMBER_17.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 18:
+        try {
+          return MEMBER_18.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 19:
+        try {
+          return MEMBER_19.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 20:
+        try {
+          return MEMBER_20.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 21:
+        try {
+          return MEMBER_21.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 22:
+        try {
+          return MEMBER_22.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 23:
+        try {
+          return MEMBER_23.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 24:
+        try {
+          return MEMBER_24.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+
+  private static java.lang.invoke.MethodHandle getter(java.lang.String name) {
+    try {
+      java.lang.reflect.Field field = com.facebook.buck.android.NonPreDexedDexBuildable.class.getDeclaredField(name);
+      field.setAccessible(true);
+      return java.lang.invoke.MethodHandles.lookup()
+          .unreflectGetter(field)
+          .asType(
+              java.lang.invoke.MethodType.methodType(
+                  java.lang.Object.class, java.lang.Object.class));
+    } catch (java.lang.ReflectiveOperationException e) {
+      throw new java.lang.IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,572 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PrebuiltNativeLibraryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg"})
+@Immutable
+public final class PrebuiltNativeLibraryDescriptionArg
+    implements PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg {
+  private final boolean isAsset;
+  private final Path nativeLibs;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private PrebuiltNativeLibraryDescriptionArg(PrebuiltNativeLibraryDescriptionArg.Builder builder) {
+    this.nativeLibs = builder.nativeLibs;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.isAsset = builder.isAssetIsSet()
+        ? builder.isAsset
+        : PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg.super.getIsAsset();
+  }
+
+  private PrebuiltNativeLibraryDescriptionArg(
+      boolean isAsset,
+      Path nativeLibs,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.isAsset = isAsset;
+    this.nativeLibs = nativeLibs;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+  }
+
+  /**
+   * @return The value of the {@code isAsset} attribute
+   */
+  @Override
+  public boolean getIsAsset() {
+    return isAsset;
+  }
+
+  /**
+   * @return The value of the {@code nativeLibs} attribute
+   */
+  @Override
+  public Path getNativeLibs() {
+    return nativeLibs;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getIsAsset() isAsset} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for isAsset
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltNativeLibraryDescriptionArg withIsAsset(boolean value) {
+    if (this.isAsset == value) return this;
+    return new PrebuiltNativeLibraryDescriptionArg(value, this.nativeLibs, this.name, this.licenses, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getNativeLibs() nativeLibs} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for nativeLibs
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltNativeLibraryDescriptionArg withNativeLibs(Path value) {
+    if (this.nativeLibs == value) return this;
+    Path newValue = Objects.requireNonNull(value, "nativeLibs");
+    return new PrebuiltNativeLibraryDescriptionArg(this.isAsset, newValue, this.name, this.licenses, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltNativeLibraryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new PrebuiltNativeLibraryDescriptionArg(this.isAsset, this.nativeLibs, newValue, this.licenses, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltNativeLibraryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PrebuiltNativeLibraryDescriptionArg(this.isAsset, this.nativeLibs, this.name, newValue, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltNativeLibraryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PrebuiltNativeLibraryDescriptionArg(this.isAsset, this.nativeLibs, this.name, newValue, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltNativeLibraryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltNativeLibraryDescriptionArg(this.isAsset, this.nativeLibs, this.name, this.licenses, newValue, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltNativeLibraryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new PrebuiltNativeLibraryDescriptionArg(this.isAsset, this.nativeLibs, this.name, this.licenses, newValue, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltNativeLibraryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltNativeLibraryDescriptionArg(this.isAsset, this.nativeLibs, this.name, this.licenses, this.labels, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltNativeLibraryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new PrebuiltNativeLibraryDescriptionArg(this.isAsset, this.nativeLibs, this.name, this.licenses, this.labels, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PrebuiltNativeLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PrebuiltNativeLibraryDescriptionArg
+        && equalTo((PrebuiltNativeLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(PrebuiltNativeLibraryDescriptionArg another) {
+    return isAsset == another.isAsset
+        && nativeLibs.equals(another.nativeLibs)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code isAsset}, {@code nativeLibs}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Booleans.hashCode(isAsset);
+    h += (h << 5) + nativeLibs.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PrebuiltNativeLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PrebuiltNativeLibraryDescriptionArg")
+        .omitNullValues()
+        .add("isAsset", isAsset)
+        .add("nativeLibs", nativeLibs)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PrebuiltNativeLibraryDescriptionArg instance
+   */
+  static PrebuiltNativeLibraryDescriptionArg copyOf(PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg instance) {
+    if (instance instanceof PrebuiltNativeLibraryDescriptionArg) {
+      return (PrebuiltNativeLibraryDescriptionArg) instance;
+    }
+    return PrebuiltNativeLibraryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PrebuiltNativeLibraryDescriptionArg PrebuiltNativeLibraryDescriptionArg}.
+   * @return A new PrebuiltNativeLibraryDescriptionArg builder
+   */
+  public static PrebuiltNativeLibraryDescriptionArg.Builder builder() {
+    return new PrebuiltNativeLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PrebuiltNativeLibraryDescriptionArg PrebuiltNativeLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NATIVE_LIBS = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private static final long OPT_BIT_IS_ASSET = 0x1L;
+    private long initBits = 0x3L;
+    private long optBits;
+
+    private boolean isAsset;
+    private @Nullable Path nativeLibs;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PrebuiltNativeLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PrebuiltNativeLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPrebuiltNativeLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg) {
+        PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg instance = (PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg) object;
+        setIsAsset(instance.getIsAsset());
+        setNativeLibs(instance.getNativeLibs());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getIsAsset() isAsset} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getIsAsset() isAsset}.</em>
+     * @param isAsset The value for isAsset 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIsAsset(boolean isAsset) {
+      this.isAsset = isAsset;
+      optBits |= OPT_BIT_IS_ASSET;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getNativeLibs() nativeLibs} attribute.
+     * @param nativeLibs The value for nativeLibs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeLibs(Path nativeLibs) {
+      this.nativeLibs = Objects.requireNonNull(nativeLibs, "nativeLibs");
+      initBits &= ~INIT_BIT_NATIVE_LIBS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltNativeLibraryDescription.AbstractPrebuiltNativeLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PrebuiltNativeLibraryDescriptionArg PrebuiltNativeLibraryDescriptionArg}.
+     * @return An immutable instance of PrebuiltNativeLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PrebuiltNativeLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PrebuiltNativeLibraryDescriptionArg(this);
+    }
+
+    private boolean isAssetIsSet() {
+      return (optBits & OPT_BIT_IS_ASSET) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NATIVE_LIBS) != 0) attributes.add("nativeLibs");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build PrebuiltNativeLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
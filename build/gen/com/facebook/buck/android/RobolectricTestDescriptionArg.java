@@ -0,0 +1,8876 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.jvm.java.BuiltInJavac;
+import com.facebook.buck.jvm.java.ForkMode;
+import com.facebook.buck.jvm.java.JavaLibraryDescription;
+import com.facebook.buck.jvm.java.JavaTestDescription;
+import com.facebook.buck.jvm.java.JavacSpec;
+import com.facebook.buck.jvm.java.JvmLibraryArg;
+import com.facebook.buck.jvm.java.MaybeRequiredForSourceOnlyAbiArg;
+import com.facebook.buck.jvm.java.TestType;
+import com.facebook.buck.jvm.kotlin.KotlinLibraryDescription;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Either;
+import com.facebook.buck.model.Flavor;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasContacts;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasProvidedDeps;
+import com.facebook.buck.rules.HasSrcs;
+import com.facebook.buck.rules.HasTestTimeout;
+import com.facebook.buck.rules.HasTests;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code RobolectricTestDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "RobolectricTestDescription.AbstractRobolectricTestDescriptionArg"})
+@Immutable
+public final class RobolectricTestDescriptionArg
+    implements RobolectricTestDescription.AbstractRobolectricTestDescriptionArg {
+  private final @Nullable String robolectricRuntimeDependency;
+  private final @Nullable SourcePath robolectricManifest;
+  private final boolean useOldStyleableFormat;
+  private final boolean forceFinalResourceIds;
+  private final ImmutableList<String> vmArgs;
+  private final @Nullable TestType testType;
+  private final boolean runTestSeparately;
+  private final ForkMode forkMode;
+  private final @Nullable Level stdErrLogLevel;
+  private final @Nullable Level stdOutLogLevel;
+  private final @Nullable Boolean useCxxLibraries;
+  private final ImmutableSet<BuildTarget> cxxLibraryWhitelist;
+  private final @Nullable Long testCaseTimeoutMs;
+  private final ImmutableMap<String, String> env;
+  private final @Nullable Flavor defaultCxxPlatform;
+  private final ImmutableSortedSet<String> contacts;
+  private final @Nullable Long testRuleTimeoutMs;
+  private final ImmutableSortedSet<SourcePath> resources;
+  private final @Nullable SourcePath proguardConfig;
+  private final ImmutableList<String> postprocessClassesCommands;
+  private final @Nullable Path resourcesRoot;
+  private final @Nullable SourcePath unbundledResourcesRoot;
+  private final @Nullable SourcePath manifestFile;
+  private final @Nullable String mavenCoords;
+  private final @Nullable SourcePath mavenPomTemplate;
+  private final ImmutableSortedSet<BuildTarget> exportedDeps;
+  private final @Nullable String source;
+  private final @Nullable String target;
+  private final @Nullable String javaVersion;
+  private final @Nullable Path javac;
+  private final @Nullable SourcePath javacJar;
+  private final @Nullable String compilerClassName;
+  private final @Nullable Either<BuiltInJavac, SourcePath> compiler;
+  private final ImmutableList<String> extraArguments;
+  private final ImmutableSet<Pattern> removeClasses;
+  private final ImmutableSortedSet<BuildTarget> annotationProcessorDeps;
+  private final ImmutableList<String> annotationProcessorParams;
+  private final ImmutableSet<String> annotationProcessors;
+  private final @Nullable Boolean annotationProcessorOnly;
+  private final ImmutableList<BuildTarget> plugins;
+  private final @Nullable Boolean generateSourceOnlyAbi;
+  private final @Nullable JavacSpec javacSpec;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final boolean requiredForSourceOnlyAbi;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<BuildTarget> providedDeps;
+  private final ImmutableSortedSet<SourcePath> srcs;
+  private final ImmutableSortedSet<BuildTarget> tests;
+  private final @Nullable AndroidLibraryDescription.JvmLanguage language;
+  private final ImmutableList<String> extraKotlincArguments;
+
+  private RobolectricTestDescriptionArg(RobolectricTestDescriptionArg.Builder builder) {
+    this.robolectricRuntimeDependency = builder.robolectricRuntimeDependency;
+    this.robolectricManifest = builder.robolectricManifest;
+    this.vmArgs = builder.vmArgs.build();
+    this.testType = builder.testType;
+    this.stdErrLogLevel = builder.stdErrLogLevel;
+    this.stdOutLogLevel = builder.stdOutLogLevel;
+    this.useCxxLibraries = builder.useCxxLibraries;
+    this.cxxLibraryWhitelist = builder.cxxLibraryWhitelist.build();
+    this.testCaseTimeoutMs = builder.testCaseTimeoutMs;
+    this.env = builder.env.build();
+    this.defaultCxxPlatform = builder.defaultCxxPlatform;
+    this.contacts = builder.contacts.build();
+    this.testRuleTimeoutMs = builder.testRuleTimeoutMs;
+    this.resources = builder.resources.build();
+    this.proguardConfig = builder.proguardConfig;
+    this.postprocessClassesCommands = builder.postprocessClassesCommands.build();
+    this.resourcesRoot = builder.resourcesRoot;
+    this.unbundledResourcesRoot = builder.unbundledResourcesRoot;
+    this.manifestFile = builder.manifestFile;
+    this.mavenCoords = builder.mavenCoords;
+    this.mavenPomTemplate = builder.mavenPomTemplate;
+    this.exportedDeps = builder.exportedDeps.build();
+    this.source = builder.source;
+    this.target = builder.target;
+    this.javaVersion = builder.javaVersion;
+    this.javac = builder.javac;
+    this.javacJar = builder.javacJar;
+    this.compilerClassName = builder.compilerClassName;
+    this.compiler = builder.compiler;
+    this.extraArguments = builder.extraArguments.build();
+    this.removeClasses = builder.removeClasses.build();
+    this.annotationProcessorDeps = builder.annotationProcessorDeps.build();
+    this.annotationProcessorParams = builder.annotationProcessorParams.build();
+    this.annotationProcessors = builder.annotationProcessors.build();
+    this.annotationProcessorOnly = builder.annotationProcessorOnly;
+    this.plugins = builder.plugins.build();
+    this.generateSourceOnlyAbi = builder.generateSourceOnlyAbi;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.providedDeps = builder.providedDeps.build();
+    this.srcs = builder.srcs.build();
+    this.tests = builder.tests.build();
+    this.language = builder.language;
+    this.extraKotlincArguments = builder.extraKotlincArguments.build();
+    if (builder.useOldStyleableFormatIsSet()) {
+      initShim.setUseOldStyleableFormat(builder.useOldStyleableFormat);
+    }
+    if (builder.forceFinalResourceIdsIsSet()) {
+      initShim.setForceFinalResourceIds(builder.forceFinalResourceIds);
+    }
+    if (builder.runTestSeparatelyIsSet()) {
+      initShim.setRunTestSeparately(builder.runTestSeparately);
+    }
+    if (builder.forkMode != null) {
+      initShim.setForkMode(builder.forkMode);
+    }
+    if (builder.requiredForSourceOnlyAbiIsSet()) {
+      initShim.setRequiredForSourceOnlyAbi(builder.requiredForSourceOnlyAbi);
+    }
+    this.useOldStyleableFormat = initShim.isUseOldStyleableFormat();
+    this.forceFinalResourceIds = initShim.isForceFinalResourceIds();
+    this.runTestSeparately = initShim.getRunTestSeparately();
+    this.forkMode = initShim.getForkMode();
+    this.requiredForSourceOnlyAbi = initShim.getRequiredForSourceOnlyAbi();
+    this.javacSpec = initShim.getJavacSpec();
+    this.initShim = null;
+  }
+
+  private RobolectricTestDescriptionArg(
+      @Nullable String robolectricRuntimeDependency,
+      @Nullable SourcePath robolectricManifest,
+      boolean useOldStyleableFormat,
+      boolean forceFinalResourceIds,
+      ImmutableList<String> vmArgs,
+      @Nullable TestType testType,
+      boolean runTestSeparately,
+      ForkMode forkMode,
+      @Nullable Level stdErrLogLevel,
+      @Nullable Level stdOutLogLevel,
+      @Nullable Boolean useCxxLibraries,
+      ImmutableSet<BuildTarget> cxxLibraryWhitelist,
+      @Nullable Long testCaseTimeoutMs,
+      ImmutableMap<String, String> env,
+      @Nullable Flavor defaultCxxPlatform,
+      ImmutableSortedSet<String> contacts,
+      @Nullable Long testRuleTimeoutMs,
+      ImmutableSortedSet<SourcePath> resources,
+      @Nullable SourcePath proguardConfig,
+      ImmutableList<String> postprocessClassesCommands,
+      @Nullable Path resourcesRoot,
+      @Nullable SourcePath unbundledResourcesRoot,
+      @Nullable SourcePath manifestFile,
+      @Nullable String mavenCoords,
+      @Nullable SourcePath mavenPomTemplate,
+      ImmutableSortedSet<BuildTarget> exportedDeps,
+      @Nullable String source,
+      @Nullable String target,
+      @Nullable String javaVersion,
+      @Nullable Path javac,
+      @Nullable SourcePath javacJar,
+      @Nullable String compilerClassName,
+      @Nullable Either<BuiltInJavac, SourcePath> compiler,
+      ImmutableList<String> extraArguments,
+      ImmutableSet<Pattern> removeClasses,
+      ImmutableSortedSet<BuildTarget> annotationProcessorDeps,
+      ImmutableList<String> annotationProcessorParams,
+      ImmutableSet<String> annotationProcessors,
+      @Nullable Boolean annotationProcessorOnly,
+      ImmutableList<BuildTarget> plugins,
+      @Nullable Boolean generateSourceOnlyAbi,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      boolean requiredForSourceOnlyAbi,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<BuildTarget> providedDeps,
+      ImmutableSortedSet<SourcePath> srcs,
+      ImmutableSortedSet<BuildTarget> tests,
+      @Nullable AndroidLibraryDescription.JvmLanguage language,
+      ImmutableList<String> extraKotlincArguments) {
+    this.robolectricRuntimeDependency = robolectricRuntimeDependency;
+    this.robolectricManifest = robolectricManifest;
+    this.useOldStyleableFormat = useOldStyleableFormat;
+    this.forceFinalResourceIds = forceFinalResourceIds;
+    this.vmArgs = vmArgs;
+    this.testType = testType;
+    this.runTestSeparately = runTestSeparately;
+    this.forkMode = forkMode;
+    this.stdErrLogLevel = stdErrLogLevel;
+    this.stdOutLogLevel = stdOutLogLevel;
+    this.useCxxLibraries = useCxxLibraries;
+    this.cxxLibraryWhitelist = cxxLibraryWhitelist;
+    this.testCaseTimeoutMs = testCaseTimeoutMs;
+    this.env = env;
+    this.defaultCxxPlatform = defaultCxxPlatform;
+    this.contacts = contacts;
+    this.testRuleTimeoutMs = testRuleTimeoutMs;
+    this.resources = resources;
+    this.proguardConfig = proguardConfig;
+    this.postprocessClassesCommands = postprocessClassesCommands;
+    this.resourcesRoot = resourcesRoot;
+    this.unbundledResourcesRoot = unbundledResourcesRoot;
+    this.manifestFile = manifestFile;
+    this.mavenCoords = mavenCoords;
+    this.mavenPomTemplate = mavenPomTemplate;
+    this.exportedDeps = exportedDeps;
+    this.source = source;
+    this.target = target;
+    this.javaVersion = javaVersion;
+    this.javac = javac;
+    this.javacJar = javacJar;
+    this.compilerClassName = compilerClassName;
+    this.compiler = compiler;
+    this.extraArguments = extraArguments;
+    this.removeClasses = removeClasses;
+    this.annotationProcessorDeps = annotationProcessorDeps;
+    this.annotationProcessorParams = annotationProcessorParams;
+    this.annotationProcessors = annotationProcessors;
+    this.annotationProcessorOnly = annotationProcessorOnly;
+    this.plugins = plugins;
+    this.generateSourceOnlyAbi = generateSourceOnlyAbi;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+    this.deps = deps;
+    this.providedDeps = providedDeps;
+    this.srcs = srcs;
+    this.tests = tests;
+    this.language = language;
+    this.extraKotlincArguments = extraKotlincArguments;
+    initShim.setUseOldStyleableFormat(this.useOldStyleableFormat);
+    initShim.setForceFinalResourceIds(this.forceFinalResourceIds);
+    initShim.setRunTestSeparately(this.runTestSeparately);
+    initShim.setForkMode(this.forkMode);
+    initShim.setRequiredForSourceOnlyAbi(this.requiredForSourceOnlyAbi);
+    this.javacSpec = initShim.getJavacSpec();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean useOldStyleableFormat;
+    private int useOldStyleableFormatBuildStage;
+
+    boolean isUseOldStyleableFormat() {
+      if (useOldStyleableFormatBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (useOldStyleableFormatBuildStage == STAGE_UNINITIALIZED) {
+        useOldStyleableFormatBuildStage = STAGE_INITIALIZING;
+        this.useOldStyleableFormat = isUseOldStyleableFormatInitialize();
+        useOldStyleableFormatBuildStage = STAGE_INITIALIZED;
+      }
+      return this.useOldStyleableFormat;
+    }
+
+    void setUseOldStyleableFormat(boolean useOldStyleableFormat) {
+      this.useOldStyleableFormat = useOldStyleableFormat;
+      useOldStyleableFormatBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean forceFinalResourceIds;
+    private int forceFinalResourceIdsBuildStage;
+
+    boolean isForceFinalResourceIds() {
+      if (forceFinalResourceIdsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (forceFinalResourceIdsBuildStage == STAGE_UNINITIALIZED) {
+        forceFinalResourceIdsBuildStage = STAGE_INITIALIZING;
+        this.forceFinalResourceIds = isForceFinalResourceIdsInitialize();
+        forceFinalResourceIdsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.forceFinalResourceIds;
+    }
+
+    void setForceFinalResourceIds(boolean forceFinalResourceIds) {
+      this.forceFinalResourceIds = forceFinalResourceIds;
+      forceFinalResourceIdsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean runTestSeparately;
+    private int runTestSeparatelyBuildStage;
+
+    boolean getRunTestSeparately() {
+      if (runTestSeparatelyBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (runTestSeparatelyBuildStage == STAGE_UNINITIALIZED) {
+        runTestSeparatelyBuildStage = STAGE_INITIALIZING;
+        this.runTestSeparately = getRunTestSeparatelyInitialize();
+        runTestSeparatelyBuildStage = STAGE_INITIALIZED;
+      }
+      return this.runTestSeparately;
+    }
+
+    void setRunTestSeparately(boolean runTestSeparately) {
+      this.runTestSeparately = runTestSeparately;
+      runTestSeparatelyBuildStage = STAGE_INITIALIZED;
+    }
+    private ForkMode forkMode;
+    private int forkModeBuildStage;
+
+    ForkMode getForkMode() {
+      if (forkModeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (forkModeBuildStage == STAGE_UNINITIALIZED) {
+        forkModeBuildStage = STAGE_INITIALIZING;
+        this.forkMode = Objects.requireNonNull(getForkModeInitialize(), "forkMode");
+        forkModeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.forkMode;
+    }
+
+    void setForkMode(ForkMode forkMode) {
+      this.forkMode = forkMode;
+      forkModeBuildStage = STAGE_INITIALIZED;
+    }
+    private JavacSpec javacSpec;
+    private int javacSpecBuildStage;
+
+    JavacSpec getJavacSpec() {
+      if (javacSpecBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (javacSpecBuildStage == STAGE_UNINITIALIZED) {
+        javacSpecBuildStage = STAGE_INITIALIZING;
+        this.javacSpec = getJavacSpecInitialize();
+        javacSpecBuildStage = STAGE_INITIALIZED;
+      }
+      return this.javacSpec;
+    }
+    private boolean requiredForSourceOnlyAbi;
+    private int requiredForSourceOnlyAbiBuildStage;
+
+    boolean getRequiredForSourceOnlyAbi() {
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_UNINITIALIZED) {
+        requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZING;
+        this.requiredForSourceOnlyAbi = getRequiredForSourceOnlyAbiInitialize();
+        requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+      }
+      return this.requiredForSourceOnlyAbi;
+    }
+
+    void setRequiredForSourceOnlyAbi(boolean requiredForSourceOnlyAbi) {
+      this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+      requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (useOldStyleableFormatBuildStage == STAGE_INITIALIZING) attributes.add("useOldStyleableFormat");
+      if (forceFinalResourceIdsBuildStage == STAGE_INITIALIZING) attributes.add("forceFinalResourceIds");
+      if (runTestSeparatelyBuildStage == STAGE_INITIALIZING) attributes.add("runTestSeparately");
+      if (forkModeBuildStage == STAGE_INITIALIZING) attributes.add("forkMode");
+      if (javacSpecBuildStage == STAGE_INITIALIZING) attributes.add("javacSpec");
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_INITIALIZING) attributes.add("requiredForSourceOnlyAbi");
+      return "Cannot build RobolectricTestDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private boolean isUseOldStyleableFormatInitialize() {
+    return RobolectricTestDescription.AbstractRobolectricTestDescriptionArg.super.isUseOldStyleableFormat();
+  }
+
+  private boolean isForceFinalResourceIdsInitialize() {
+    return RobolectricTestDescription.AbstractRobolectricTestDescriptionArg.super.isForceFinalResourceIds();
+  }
+
+  private boolean getRunTestSeparatelyInitialize() {
+    return RobolectricTestDescription.AbstractRobolectricTestDescriptionArg.super.getRunTestSeparately();
+  }
+
+  private ForkMode getForkModeInitialize() {
+    return RobolectricTestDescription.AbstractRobolectricTestDescriptionArg.super.getForkMode();
+  }
+
+  private @Nullable JavacSpec getJavacSpecInitialize() {
+    return RobolectricTestDescription.AbstractRobolectricTestDescriptionArg.super.getJavacSpec();
+  }
+
+  private boolean getRequiredForSourceOnlyAbiInitialize() {
+    return RobolectricTestDescription.AbstractRobolectricTestDescriptionArg.super.getRequiredForSourceOnlyAbi();
+  }
+
+  /**
+   * @return The value of the {@code robolectricRuntimeDependency} attribute
+   */
+  @Override
+  public Optional<String> getRobolectricRuntimeDependency() {
+    return Optional.ofNullable(robolectricRuntimeDependency);
+  }
+
+  /**
+   * @return The value of the {@code robolectricManifest} attribute
+   */
+  @Override
+  public Optional<SourcePath> getRobolectricManifest() {
+    return Optional.ofNullable(robolectricManifest);
+  }
+
+  /**
+   * @return The value of the {@code useOldStyleableFormat} attribute
+   */
+  @Override
+  public boolean isUseOldStyleableFormat() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isUseOldStyleableFormat()
+        : this.useOldStyleableFormat;
+  }
+
+  /**
+   * @return The value of the {@code forceFinalResourceIds} attribute
+   */
+  @Override
+  public boolean isForceFinalResourceIds() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isForceFinalResourceIds()
+        : this.forceFinalResourceIds;
+  }
+
+  /**
+   * @return The value of the {@code vmArgs} attribute
+   */
+  @Override
+  public ImmutableList<String> getVmArgs() {
+    return vmArgs;
+  }
+
+  /**
+   * @return The value of the {@code testType} attribute
+   */
+  @Override
+  public Optional<TestType> getTestType() {
+    return Optional.ofNullable(testType);
+  }
+
+  /**
+   * @return The value of the {@code runTestSeparately} attribute
+   */
+  @Override
+  public boolean getRunTestSeparately() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRunTestSeparately()
+        : this.runTestSeparately;
+  }
+
+  /**
+   * @return The value of the {@code forkMode} attribute
+   */
+  @Override
+  public ForkMode getForkMode() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getForkMode()
+        : this.forkMode;
+  }
+
+  /**
+   * @return The value of the {@code stdErrLogLevel} attribute
+   */
+  @Override
+  public Optional<Level> getStdErrLogLevel() {
+    return Optional.ofNullable(stdErrLogLevel);
+  }
+
+  /**
+   * @return The value of the {@code stdOutLogLevel} attribute
+   */
+  @Override
+  public Optional<Level> getStdOutLogLevel() {
+    return Optional.ofNullable(stdOutLogLevel);
+  }
+
+  /**
+   * @return The value of the {@code useCxxLibraries} attribute
+   */
+  @Override
+  public Optional<Boolean> getUseCxxLibraries() {
+    return Optional.ofNullable(useCxxLibraries);
+  }
+
+  /**
+   * @return The value of the {@code cxxLibraryWhitelist} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getCxxLibraryWhitelist() {
+    return cxxLibraryWhitelist;
+  }
+
+  /**
+   * @return The value of the {@code testCaseTimeoutMs} attribute
+   */
+  @Override
+  public Optional<Long> getTestCaseTimeoutMs() {
+    return Optional.ofNullable(testCaseTimeoutMs);
+  }
+
+  /**
+   * @return The value of the {@code env} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnv() {
+    return env;
+  }
+
+  /**
+   * @return The value of the {@code defaultCxxPlatform} attribute
+   */
+  @Override
+  public Optional<Flavor> getDefaultCxxPlatform() {
+    return Optional.ofNullable(defaultCxxPlatform);
+  }
+
+  /**
+   * @return The value of the {@code contacts} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getContacts() {
+    return contacts;
+  }
+
+  /**
+   * @return The value of the {@code testRuleTimeoutMs} attribute
+   */
+  @Override
+  public Optional<Long> getTestRuleTimeoutMs() {
+    return Optional.ofNullable(testRuleTimeoutMs);
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getResources() {
+    return resources;
+  }
+
+  /**
+   * @return The value of the {@code proguardConfig} attribute
+   */
+  @Override
+  public Optional<SourcePath> getProguardConfig() {
+    return Optional.ofNullable(proguardConfig);
+  }
+
+  /**
+   * @return The value of the {@code postprocessClassesCommands} attribute
+   */
+  @Override
+  public ImmutableList<String> getPostprocessClassesCommands() {
+    return postprocessClassesCommands;
+  }
+
+  /**
+   * @return The value of the {@code resourcesRoot} attribute
+   */
+  @Override
+  public Optional<Path> getResourcesRoot() {
+    return Optional.ofNullable(resourcesRoot);
+  }
+
+  /**
+   * @return The value of the {@code unbundledResourcesRoot} attribute
+   */
+  @Override
+  public Optional<SourcePath> getUnbundledResourcesRoot() {
+    return Optional.ofNullable(unbundledResourcesRoot);
+  }
+
+  /**
+   * @return The value of the {@code manifestFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getManifestFile() {
+    return Optional.ofNullable(manifestFile);
+  }
+
+  /**
+   * @return The value of the {@code mavenCoords} attribute
+   */
+  @Override
+  public Optional<String> getMavenCoords() {
+    return Optional.ofNullable(mavenCoords);
+  }
+
+  /**
+   * @return The value of the {@code mavenPomTemplate} attribute
+   */
+  @Override
+  public Optional<SourcePath> getMavenPomTemplate() {
+    return Optional.ofNullable(mavenPomTemplate);
+  }
+
+  /**
+   * @return The value of the {@code exportedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getExportedDeps() {
+    return exportedDeps;
+  }
+
+  /**
+   * @return The value of the {@code source} attribute
+   */
+  @Override
+  public Optional<String> getSource() {
+    return Optional.ofNullable(source);
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public Optional<String> getTarget() {
+    return Optional.ofNullable(target);
+  }
+
+  /**
+   * @return The value of the {@code javaVersion} attribute
+   */
+  @Override
+  public Optional<String> getJavaVersion() {
+    return Optional.ofNullable(javaVersion);
+  }
+
+  /**
+   * @return The value of the {@code javac} attribute
+   */
+  @Override
+  public Optional<Path> getJavac() {
+    return Optional.ofNullable(javac);
+  }
+
+  /**
+   * @return The value of the {@code javacJar} attribute
+   */
+  @Override
+  public Optional<SourcePath> getJavacJar() {
+    return Optional.ofNullable(javacJar);
+  }
+
+  /**
+   * @return The value of the {@code compilerClassName} attribute
+   */
+  @Override
+  public Optional<String> getCompilerClassName() {
+    return Optional.ofNullable(compilerClassName);
+  }
+
+  /**
+   * @return The value of the {@code compiler} attribute
+   */
+  @Override
+  public Optional<Either<BuiltInJavac, SourcePath>> getCompiler() {
+    return Optional.ofNullable(compiler);
+  }
+
+  /**
+   * @return The value of the {@code extraArguments} attribute
+   */
+  @Override
+  public ImmutableList<String> getExtraArguments() {
+    return extraArguments;
+  }
+
+  /**
+   * @return The value of the {@code removeClasses} attribute
+   */
+  @Override
+  public ImmutableSet<Pattern> getRemoveClasses() {
+    return removeClasses;
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessorDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getAnnotationProcessorDeps() {
+    return annotationProcessorDeps;
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessorParams} attribute
+   */
+  @Override
+  public ImmutableList<String> getAnnotationProcessorParams() {
+    return annotationProcessorParams;
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessors} attribute
+   */
+  @Override
+  public ImmutableSet<String> getAnnotationProcessors() {
+    return annotationProcessors;
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessorOnly} attribute
+   */
+  @Override
+  public Optional<Boolean> getAnnotationProcessorOnly() {
+    return Optional.ofNullable(annotationProcessorOnly);
+  }
+
+  /**
+   * @return The value of the {@code plugins} attribute
+   */
+  @Override
+  public ImmutableList<BuildTarget> getPlugins() {
+    return plugins;
+  }
+
+  /**
+   * @return The value of the {@code generateSourceOnlyAbi} attribute
+   */
+  @Override
+  public Optional<Boolean> getGenerateSourceOnlyAbi() {
+    return Optional.ofNullable(generateSourceOnlyAbi);
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code javacSpec} attribute
+   */
+  @Override
+  public @Nullable JavacSpec getJavacSpec() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getJavacSpec()
+        : this.javacSpec;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code requiredForSourceOnlyAbi} attribute
+   */
+  @Override
+  public boolean getRequiredForSourceOnlyAbi() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRequiredForSourceOnlyAbi()
+        : this.requiredForSourceOnlyAbi;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code providedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getProvidedDeps() {
+    return providedDeps;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * @return The value of the {@code language} attribute
+   */
+  @Override
+  public Optional<AndroidLibraryDescription.JvmLanguage> getLanguage() {
+    return Optional.ofNullable(language);
+  }
+
+  /**
+   * @return The value of the {@code extraKotlincArguments} attribute
+   */
+  @Override
+  public ImmutableList<String> getExtraKotlincArguments() {
+    return extraKotlincArguments;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRobolectricRuntimeDependency() robolectricRuntimeDependency} attribute.
+   * @param value The value for robolectricRuntimeDependency
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withRobolectricRuntimeDependency(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "robolectricRuntimeDependency");
+    if (Objects.equals(this.robolectricRuntimeDependency, newValue)) return this;
+    return new RobolectricTestDescriptionArg(
+        newValue,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRobolectricRuntimeDependency() robolectricRuntimeDependency} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for robolectricRuntimeDependency
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withRobolectricRuntimeDependency(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.robolectricRuntimeDependency, value)) return this;
+    return new RobolectricTestDescriptionArg(
+        value,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRobolectricManifest() robolectricManifest} attribute.
+   * @param value The value for robolectricManifest
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withRobolectricManifest(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "robolectricManifest");
+    if (this.robolectricManifest == newValue) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        newValue,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRobolectricManifest() robolectricManifest} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for robolectricManifest
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withRobolectricManifest(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.robolectricManifest == value) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        value,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#isUseOldStyleableFormat() useOldStyleableFormat} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for useOldStyleableFormat
+   * @return A modified copy of the {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withUseOldStyleableFormat(boolean value) {
+    if (this.useOldStyleableFormat == value) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        value,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#isForceFinalResourceIds() forceFinalResourceIds} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for forceFinalResourceIds
+   * @return A modified copy of the {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withForceFinalResourceIds(boolean value) {
+    if (this.forceFinalResourceIds == value) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        value,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getVmArgs() vmArgs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withVmArgs(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        newValue,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getVmArgs() vmArgs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of vmArgs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withVmArgs(Iterable<String> elements) {
+    if (this.vmArgs == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        newValue,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTestType() testType} attribute.
+   * @param value The value for testType
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withTestType(TestType value) {
+    @Nullable TestType newValue = Objects.requireNonNull(value, "testType");
+    if (this.testType == newValue) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        newValue,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTestType() testType} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for testType
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withTestType(Optional<? extends TestType> optional) {
+    @Nullable TestType value = optional.orElse(null);
+    if (Objects.equals(this.testType, value)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        value,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRunTestSeparately() runTestSeparately} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for runTestSeparately
+   * @return A modified copy of the {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withRunTestSeparately(boolean value) {
+    if (this.runTestSeparately == value) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        value,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getForkMode() forkMode} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for forkMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withForkMode(ForkMode value) {
+    if (this.forkMode == value) return this;
+    ForkMode newValue = Objects.requireNonNull(value, "forkMode");
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        newValue,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getStdErrLogLevel() stdErrLogLevel} attribute.
+   * @param value The value for stdErrLogLevel
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withStdErrLogLevel(Level value) {
+    @Nullable Level newValue = Objects.requireNonNull(value, "stdErrLogLevel");
+    if (this.stdErrLogLevel == newValue) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        newValue,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getStdErrLogLevel() stdErrLogLevel} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for stdErrLogLevel
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withStdErrLogLevel(Optional<? extends Level> optional) {
+    @Nullable Level value = optional.orElse(null);
+    if (this.stdErrLogLevel == value) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        value,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getStdOutLogLevel() stdOutLogLevel} attribute.
+   * @param value The value for stdOutLogLevel
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withStdOutLogLevel(Level value) {
+    @Nullable Level newValue = Objects.requireNonNull(value, "stdOutLogLevel");
+    if (this.stdOutLogLevel == newValue) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        newValue,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getStdOutLogLevel() stdOutLogLevel} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for stdOutLogLevel
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withStdOutLogLevel(Optional<? extends Level> optional) {
+    @Nullable Level value = optional.orElse(null);
+    if (this.stdOutLogLevel == value) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        value,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getUseCxxLibraries() useCxxLibraries} attribute.
+   * @param value The value for useCxxLibraries
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withUseCxxLibraries(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.useCxxLibraries, newValue)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        newValue,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getUseCxxLibraries() useCxxLibraries} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for useCxxLibraries
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withUseCxxLibraries(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.useCxxLibraries, value)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        value,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getCxxLibraryWhitelist() cxxLibraryWhitelist}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withCxxLibraryWhitelist(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        newValue,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getCxxLibraryWhitelist() cxxLibraryWhitelist}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cxxLibraryWhitelist elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withCxxLibraryWhitelist(Iterable<? extends BuildTarget> elements) {
+    if (this.cxxLibraryWhitelist == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        newValue,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTestCaseTimeoutMs() testCaseTimeoutMs} attribute.
+   * @param value The value for testCaseTimeoutMs
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withTestCaseTimeoutMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.testCaseTimeoutMs, newValue)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        newValue,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTestCaseTimeoutMs() testCaseTimeoutMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for testCaseTimeoutMs
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withTestCaseTimeoutMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.testCaseTimeoutMs, value)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        value,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getEnv() env} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the env map
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withEnv(Map<String, ? extends String> entries) {
+    if (this.env == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        newValue,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getDefaultCxxPlatform() defaultCxxPlatform} attribute.
+   * @param value The value for defaultCxxPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withDefaultCxxPlatform(Flavor value) {
+    @Nullable Flavor newValue = Objects.requireNonNull(value, "defaultCxxPlatform");
+    if (this.defaultCxxPlatform == newValue) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        newValue,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getDefaultCxxPlatform() defaultCxxPlatform} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for defaultCxxPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withDefaultCxxPlatform(Optional<? extends Flavor> optional) {
+    @Nullable Flavor value = optional.orElse(null);
+    if (this.defaultCxxPlatform == value) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        value,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getContacts() contacts}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withContacts(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        newValue,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getContacts() contacts}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of contacts elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withContacts(Iterable<String> elements) {
+    if (this.contacts == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        newValue,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} attribute.
+   * @param value The value for testRuleTimeoutMs
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withTestRuleTimeoutMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.testRuleTimeoutMs, newValue)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        newValue,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for testRuleTimeoutMs
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withTestRuleTimeoutMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.testRuleTimeoutMs, value)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        value,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getResources() resources}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withResources(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        newValue,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getResources() resources}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of resources elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withResources(Iterable<? extends SourcePath> elements) {
+    if (this.resources == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        newValue,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getProguardConfig() proguardConfig} attribute.
+   * @param value The value for proguardConfig
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withProguardConfig(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "proguardConfig");
+    if (this.proguardConfig == newValue) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        newValue,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getProguardConfig() proguardConfig} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for proguardConfig
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withProguardConfig(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.proguardConfig == value) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        value,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getPostprocessClassesCommands() postprocessClassesCommands}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withPostprocessClassesCommands(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        newValue,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getPostprocessClassesCommands() postprocessClassesCommands}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of postprocessClassesCommands elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withPostprocessClassesCommands(Iterable<String> elements) {
+    if (this.postprocessClassesCommands == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        newValue,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getResourcesRoot() resourcesRoot} attribute.
+   * @param value The value for resourcesRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withResourcesRoot(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "resourcesRoot");
+    if (this.resourcesRoot == newValue) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        newValue,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getResourcesRoot() resourcesRoot} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for resourcesRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withResourcesRoot(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.resourcesRoot == value) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        value,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getUnbundledResourcesRoot() unbundledResourcesRoot} attribute.
+   * @param value The value for unbundledResourcesRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withUnbundledResourcesRoot(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "unbundledResourcesRoot");
+    if (this.unbundledResourcesRoot == newValue) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        newValue,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getUnbundledResourcesRoot() unbundledResourcesRoot} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for unbundledResourcesRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withUnbundledResourcesRoot(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.unbundledResourcesRoot == value) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        value,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getManifestFile() manifestFile} attribute.
+   * @param value The value for manifestFile
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withManifestFile(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "manifestFile");
+    if (this.manifestFile == newValue) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        newValue,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getManifestFile() manifestFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for manifestFile
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withManifestFile(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.manifestFile == value) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        value,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getMavenCoords() mavenCoords} attribute.
+   * @param value The value for mavenCoords
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withMavenCoords(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "mavenCoords");
+    if (Objects.equals(this.mavenCoords, newValue)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        newValue,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getMavenCoords() mavenCoords} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for mavenCoords
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withMavenCoords(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.mavenCoords, value)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        value,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getMavenPomTemplate() mavenPomTemplate} attribute.
+   * @param value The value for mavenPomTemplate
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withMavenPomTemplate(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "mavenPomTemplate");
+    if (this.mavenPomTemplate == newValue) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        newValue,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getMavenPomTemplate() mavenPomTemplate} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for mavenPomTemplate
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withMavenPomTemplate(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.mavenPomTemplate == value) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        value,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExportedDeps() exportedDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withExportedDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        newValue,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExportedDeps() exportedDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withExportedDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.exportedDeps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        newValue,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getSource() source} attribute.
+   * @param value The value for source
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withSource(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "source");
+    if (Objects.equals(this.source, newValue)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        newValue,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getSource() source} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for source
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withSource(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.source, value)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        value,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTarget() target} attribute.
+   * @param value The value for target
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withTarget(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "target");
+    if (Objects.equals(this.target, newValue)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        newValue,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTarget() target} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for target
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withTarget(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.target, value)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        value,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getJavaVersion() javaVersion} attribute.
+   * @param value The value for javaVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withJavaVersion(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "javaVersion");
+    if (Objects.equals(this.javaVersion, newValue)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        newValue,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getJavaVersion() javaVersion} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for javaVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withJavaVersion(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.javaVersion, value)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        value,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getJavac() javac} attribute.
+   * @param value The value for javac
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withJavac(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "javac");
+    if (this.javac == newValue) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        newValue,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getJavac() javac} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for javac
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withJavac(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.javac == value) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        value,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getJavacJar() javacJar} attribute.
+   * @param value The value for javacJar
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withJavacJar(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "javacJar");
+    if (this.javacJar == newValue) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        newValue,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getJavacJar() javacJar} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for javacJar
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withJavacJar(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.javacJar == value) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        value,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getCompilerClassName() compilerClassName} attribute.
+   * @param value The value for compilerClassName
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withCompilerClassName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "compilerClassName");
+    if (Objects.equals(this.compilerClassName, newValue)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        newValue,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getCompilerClassName() compilerClassName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for compilerClassName
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withCompilerClassName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.compilerClassName, value)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        value,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getCompiler() compiler} attribute.
+   * @param value The value for compiler
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withCompiler(Either<BuiltInJavac, SourcePath> value) {
+    @Nullable Either<BuiltInJavac, SourcePath> newValue = Objects.requireNonNull(value, "compiler");
+    if (this.compiler == newValue) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        newValue,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getCompiler() compiler} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for compiler
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withCompiler(Optional<? extends Either<BuiltInJavac, SourcePath>> optional) {
+    @Nullable Either<BuiltInJavac, SourcePath> value = optional.orElse(null);
+    if (this.compiler == value) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        value,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExtraArguments() extraArguments}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withExtraArguments(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        newValue,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExtraArguments() extraArguments}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of extraArguments elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withExtraArguments(Iterable<String> elements) {
+    if (this.extraArguments == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        newValue,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRemoveClasses() removeClasses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withRemoveClasses(Pattern... elements) {
+    ImmutableSet<Pattern> newValue = ImmutableSet.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        newValue,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRemoveClasses() removeClasses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of removeClasses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withRemoveClasses(Iterable<? extends Pattern> elements) {
+    if (this.removeClasses == elements) return this;
+    ImmutableSet<Pattern> newValue = ImmutableSet.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        newValue,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessorDeps() annotationProcessorDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withAnnotationProcessorDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        newValue,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessorDeps() annotationProcessorDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of annotationProcessorDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withAnnotationProcessorDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.annotationProcessorDeps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        newValue,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessorParams() annotationProcessorParams}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withAnnotationProcessorParams(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        newValue,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessorParams() annotationProcessorParams}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of annotationProcessorParams elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withAnnotationProcessorParams(Iterable<String> elements) {
+    if (this.annotationProcessorParams == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        newValue,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessors() annotationProcessors}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withAnnotationProcessors(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        newValue,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessors() annotationProcessors}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of annotationProcessors elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withAnnotationProcessors(Iterable<String> elements) {
+    if (this.annotationProcessors == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        newValue,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessorOnly() annotationProcessorOnly} attribute.
+   * @param value The value for annotationProcessorOnly
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withAnnotationProcessorOnly(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.annotationProcessorOnly, newValue)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        newValue,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessorOnly() annotationProcessorOnly} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for annotationProcessorOnly
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withAnnotationProcessorOnly(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.annotationProcessorOnly, value)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        value,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getPlugins() plugins}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withPlugins(BuildTarget... elements) {
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        newValue,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getPlugins() plugins}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of plugins elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withPlugins(Iterable<? extends BuildTarget> elements) {
+    if (this.plugins == elements) return this;
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        newValue,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getGenerateSourceOnlyAbi() generateSourceOnlyAbi} attribute.
+   * @param value The value for generateSourceOnlyAbi
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withGenerateSourceOnlyAbi(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.generateSourceOnlyAbi, newValue)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getGenerateSourceOnlyAbi() generateSourceOnlyAbi} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for generateSourceOnlyAbi
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withGenerateSourceOnlyAbi(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.generateSourceOnlyAbi, value)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        newValue,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        newValue,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        newValue,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        newValue,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for requiredForSourceOnlyAbi
+   * @return A modified copy of the {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withRequiredForSourceOnlyAbi(boolean value) {
+    if (this.requiredForSourceOnlyAbi == value) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        value,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        newValue,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        newValue,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getProvidedDeps() providedDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withProvidedDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        newValue,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getProvidedDeps() providedDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of providedDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withProvidedDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.providedDeps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        newValue,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withSrcs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        newValue,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withSrcs(Iterable<? extends SourcePath> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        newValue,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTests() tests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        newValue,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTests() tests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of tests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withTests(Iterable<? extends BuildTarget> elements) {
+    if (this.tests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        newValue,
+        this.language,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getLanguage() language} attribute.
+   * @param value The value for language
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withLanguage(AndroidLibraryDescription.JvmLanguage value) {
+    @Nullable AndroidLibraryDescription.JvmLanguage newValue = Objects.requireNonNull(value, "language");
+    if (this.language == newValue) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        newValue,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getLanguage() language} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for language
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withLanguage(Optional<? extends AndroidLibraryDescription.JvmLanguage> optional) {
+    @Nullable AndroidLibraryDescription.JvmLanguage value = optional.orElse(null);
+    if (Objects.equals(this.language, value)) return this;
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        value,
+        this.extraKotlincArguments);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExtraKotlincArguments() extraKotlincArguments}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withExtraKotlincArguments(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExtraKotlincArguments() extraKotlincArguments}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of extraKotlincArguments elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RobolectricTestDescriptionArg withExtraKotlincArguments(Iterable<String> elements) {
+    if (this.extraKotlincArguments == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RobolectricTestDescriptionArg(
+        this.robolectricRuntimeDependency,
+        this.robolectricManifest,
+        this.useOldStyleableFormat,
+        this.forceFinalResourceIds,
+        this.vmArgs,
+        this.testType,
+        this.runTestSeparately,
+        this.forkMode,
+        this.stdErrLogLevel,
+        this.stdOutLogLevel,
+        this.useCxxLibraries,
+        this.cxxLibraryWhitelist,
+        this.testCaseTimeoutMs,
+        this.env,
+        this.defaultCxxPlatform,
+        this.contacts,
+        this.testRuleTimeoutMs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.generateSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RobolectricTestDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RobolectricTestDescriptionArg
+        && equalTo((RobolectricTestDescriptionArg) another);
+  }
+
+  private boolean equalTo(RobolectricTestDescriptionArg another) {
+    return Objects.equals(robolectricRuntimeDependency, another.robolectricRuntimeDependency)
+        && Objects.equals(robolectricManifest, another.robolectricManifest)
+        && useOldStyleableFormat == another.useOldStyleableFormat
+        && forceFinalResourceIds == another.forceFinalResourceIds
+        && vmArgs.equals(another.vmArgs)
+        && Objects.equals(testType, another.testType)
+        && runTestSeparately == another.runTestSeparately
+        && forkMode.equals(another.forkMode)
+        && Objects.equals(stdErrLogLevel, another.stdErrLogLevel)
+        && Objects.equals(stdOutLogLevel, another.stdOutLogLevel)
+        && Objects.equals(useCxxLibraries, another.useCxxLibraries)
+        && cxxLibraryWhitelist.equals(another.cxxLibraryWhitelist)
+        && Objects.equals(testCaseTimeoutMs, another.testCaseTimeoutMs)
+        && env.equals(another.env)
+        && Objects.equals(defaultCxxPlatform, another.defaultCxxPlatform)
+        && contacts.equals(another.contacts)
+        && Objects.equals(testRuleTimeoutMs, another.testRuleTimeoutMs)
+        && resources.equals(another.resources)
+        && Objects.equals(proguardConfig, another.proguardConfig)
+        && postprocessClassesCommands.equals(another.postprocessClassesCommands)
+        && Objects.equals(resourcesRoot, another.resourcesRoot)
+        && Objects.equals(unbundledResourcesRoot, another.unbundledResourcesRoot)
+        && Objects.equals(manifestFile, another.manifestFile)
+        && Objects.equals(mavenCoords, another.mavenCoords)
+        && Objects.equals(mavenPomTemplate, another.mavenPomTemplate)
+        && exportedDeps.equals(another.exportedDeps)
+        && Objects.equals(source, another.source)
+        && Objects.equals(target, another.target)
+        && Objects.equals(javaVersion, another.javaVersion)
+        && Objects.equals(javac, another.javac)
+        && Objects.equals(javacJar, another.javacJar)
+        && Objects.equals(compilerClassName, another.compilerClassName)
+        && Objects.equals(compiler, another.compiler)
+        && extraArguments.equals(another.extraArguments)
+        && removeClasses.equals(another.removeClasses)
+        && annotationProcessorDeps.equals(another.annotationProcessorDeps)
+        && annotationProcessorParams.equals(another.annotationProcessorParams)
+        && annotationProcessors.equals(another.annotationProcessors)
+        && Objects.equals(annotationProcessorOnly, another.annotationProcessorOnly)
+        && plugins.equals(another.plugins)
+        && Objects.equals(generateSourceOnlyAbi, another.generateSourceOnlyAbi)
+        && Objects.equals(javacSpec, another.javacSpec)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && requiredForSourceOnlyAbi == another.requiredForSourceOnlyAbi
+        && deps.equals(another.deps)
+        && providedDeps.equals(another.providedDeps)
+        && srcs.equals(another.srcs)
+        && tests.equals(another.tests)
+        && Objects.equals(language, another.language)
+        && extraKotlincArguments.equals(another.extraKotlincArguments);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code robolectricRuntimeDependency}, {@code robolectricManifest}, {@code useOldStyleableFormat}, {@code forceFinalResourceIds}, {@code vmArgs}, {@code testType}, {@code runTestSeparately}, {@code forkMode}, {@code stdErrLogLevel}, {@code stdOutLogLevel}, {@code useCxxLibraries}, {@code cxxLibraryWhitelist}, {@code testCaseTimeoutMs}, {@code env}, {@code defaultCxxPlatform}, {@code contacts}, {@code testRuleTimeoutMs}, {@code resources}, {@code proguardConfig}, {@code postprocessClassesCommands}, {@code resourcesRoot}, {@code unbundledResourcesRoot}, {@code manifestFile}, {@code mavenCoords}, {@code mavenPomTemplate}, {@code exportedDeps}, {@code source}, {@code target}, {@code javaVersion}, {@code javac}, {@code javacJar}, {@code compilerClassName}, {@code compiler}, {@code extraArguments}, {@code removeClasses}, {@code annotationProcessorDeps}, {@code annotationProcessorParams}, {@code annotationProcessors}, {@code annotationProcessorOnly}, {@code plugins}, {@code generateSourceOnlyAbi}, {@code javacSpec}, {@code name}, {@code licenses}, {@code labels}, {@code requiredForSourceOnlyAbi}, {@code deps}, {@code providedDeps}, {@code srcs}, {@code tests}, {@code language}, {@code extraKotlincArguments}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(robolectricRuntimeDependency);
+    h += (h << 5) + Objects.hashCode(robolectricManifest);
+    h += (h << 5) + Booleans.hashCode(useOldStyleableFormat);
+    h += (h << 5) + Booleans.hashCode(forceFinalResourceIds);
+    h += (h << 5) + vmArgs.hashCode();
+    h += (h << 5) + Objects.hashCode(testType);
+    h += (h << 5) + Booleans.hashCode(runTestSeparately);
+    h += (h << 5) + forkMode.hashCode();
+    h += (h << 5) + Objects.hashCode(stdErrLogLevel);
+    h += (h << 5) + Objects.hashCode(stdOutLogLevel);
+    h += (h << 5) + Objects.hashCode(useCxxLibraries);
+    h += (h << 5) + cxxLibraryWhitelist.hashCode();
+    h += (h << 5) + Objects.hashCode(testCaseTimeoutMs);
+    h += (h << 5) + env.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultCxxPlatform);
+    h += (h << 5) + contacts.hashCode();
+    h += (h << 5) + Objects.hashCode(testRuleTimeoutMs);
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + Objects.hashCode(proguardConfig);
+    h += (h << 5) + postprocessClassesCommands.hashCode();
+    h += (h << 5) + Objects.hashCode(resourcesRoot);
+    h += (h << 5) + Objects.hashCode(unbundledResourcesRoot);
+    h += (h << 5) + Objects.hashCode(manifestFile);
+    h += (h << 5) + Objects.hashCode(mavenCoords);
+    h += (h << 5) + Objects.hashCode(mavenPomTemplate);
+    h += (h << 5) + exportedDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(source);
+    h += (h << 5) + Objects.hashCode(target);
+    h += (h << 5) + Objects.hashCode(javaVersion);
+    h += (h << 5) + Objects.hashCode(javac);
+    h += (h << 5) + Objects.hashCode(javacJar);
+    h += (h << 5) + Objects.hashCode(compilerClassName);
+    h += (h << 5) + Objects.hashCode(compiler);
+    h += (h << 5) + extraArguments.hashCode();
+    h += (h << 5) + removeClasses.hashCode();
+    h += (h << 5) + annotationProcessorDeps.hashCode();
+    h += (h << 5) + annotationProcessorParams.hashCode();
+    h += (h << 5) + annotationProcessors.hashCode();
+    h += (h << 5) + Objects.hashCode(annotationProcessorOnly);
+    h += (h << 5) + plugins.hashCode();
+    h += (h << 5) + Objects.hashCode(generateSourceOnlyAbi);
+    h += (h << 5) + Objects.hashCode(javacSpec);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Booleans.hashCode(requiredForSourceOnlyAbi);
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + providedDeps.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + tests.hashCode();
+    h += (h << 5) + Objects.hashCode(language);
+    h += (h << 5) + extraKotlincArguments.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RobolectricTestDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RobolectricTestDescriptionArg")
+        .omitNullValues()
+        .add("robolectricRuntimeDependency", robolectricRuntimeDependency)
+        .add("robolectricManifest", robolectricManifest)
+        .add("useOldStyleableFormat", useOldStyleableFormat)
+        .add("forceFinalResourceIds", forceFinalResourceIds)
+        .add("vmArgs", vmArgs)
+        .add("testType", testType)
+        .add("runTestSeparately", runTestSeparately)
+        .add("forkMode", forkMode)
+        .add("stdErrLogLevel", stdErrLogLevel)
+        .add("stdOutLogLevel", stdOutLogLevel)
+        .add("useCxxLibraries", useCxxLibraries)
+        .add("cxxLibraryWhitelist", cxxLibraryWhitelist)
+        .add("testCaseTimeoutMs", testCaseTimeoutMs)
+        .add("env", env)
+        .add("defaultCxxPlatform", defaultCxxPlatform)
+        .add("contacts", contacts)
+        .add("testRuleTimeoutMs", testRuleTimeoutMs)
+        .add("resources", resources)
+        .add("proguardConfig", proguardConfig)
+        .add("postprocessClassesCommands", postprocessClassesCommands)
+        .add("resourcesRoot", resourcesRoot)
+        .add("unbundledResourcesRoot", unbundledResourcesRoot)
+        .add("manifestFile", manifestFile)
+        .add("mavenCoords", mavenCoords)
+        .add("mavenPomTemplate", mavenPomTemplate)
+        .add("exportedDeps", exportedDeps)
+        .add("source", source)
+        .add("target", target)
+        .add("javaVersion", javaVersion)
+        .add("javac", javac)
+        .add("javacJar", javacJar)
+        .add("compilerClassName", compilerClassName)
+        .add("compiler", compiler)
+        .add("extraArguments", extraArguments)
+        .add("removeClasses", removeClasses)
+        .add("annotationProcessorDeps", annotationProcessorDeps)
+        .add("annotationProcessorParams", annotationProcessorParams)
+        .add("annotationProcessors", annotationProcessors)
+        .add("annotationProcessorOnly", annotationProcessorOnly)
+        .add("plugins", plugins)
+        .add("generateSourceOnlyAbi", generateSourceOnlyAbi)
+        .add("javacSpec", javacSpec)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("requiredForSourceOnlyAbi", requiredForSourceOnlyAbi)
+        .add("deps", deps)
+        .add("providedDeps", providedDeps)
+        .add("srcs", srcs)
+        .add("tests", tests)
+        .add("language", language)
+        .add("extraKotlincArguments", extraKotlincArguments)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable RobolectricTestDescriptionArg instance
+   */
+  static RobolectricTestDescriptionArg copyOf(RobolectricTestDescription.AbstractRobolectricTestDescriptionArg instance) {
+    if (instance instanceof RobolectricTestDescriptionArg) {
+      return (RobolectricTestDescriptionArg) instance;
+    }
+    return RobolectricTestDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link RobolectricTestDescriptionArg RobolectricTestDescriptionArg}.
+   * @return A new RobolectricTestDescriptionArg builder
+   */
+  public static RobolectricTestDescriptionArg.Builder builder() {
+    return new RobolectricTestDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link RobolectricTestDescriptionArg RobolectricTestDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_USE_OLD_STYLEABLE_FORMAT = 0x1L;
+    private static final long OPT_BIT_FORCE_FINAL_RESOURCE_IDS = 0x2L;
+    private static final long OPT_BIT_RUN_TEST_SEPARATELY = 0x4L;
+    private static final long OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI = 0x8L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable String robolectricRuntimeDependency;
+    private @Nullable SourcePath robolectricManifest;
+    private boolean useOldStyleableFormat;
+    private boolean forceFinalResourceIds;
+    private ImmutableList.Builder<String> vmArgs = ImmutableList.builder();
+    private @Nullable TestType testType;
+    private boolean runTestSeparately;
+    private @Nullable ForkMode forkMode;
+    private @Nullable Level stdErrLogLevel;
+    private @Nullable Level stdOutLogLevel;
+    private @Nullable Boolean useCxxLibraries;
+    private ImmutableSet.Builder<BuildTarget> cxxLibraryWhitelist = ImmutableSet.builder();
+    private @Nullable Long testCaseTimeoutMs;
+    private ImmutableMap.Builder<String, String> env = ImmutableMap.builder();
+    private @Nullable Flavor defaultCxxPlatform;
+    private ImmutableSortedSet.Builder<String> contacts = ImmutableSortedSet.naturalOrder();
+    private @Nullable Long testRuleTimeoutMs;
+    private ImmutableSortedSet.Builder<SourcePath> resources = ImmutableSortedSet.naturalOrder();
+    private @Nullable SourcePath proguardConfig;
+    private ImmutableList.Builder<String> postprocessClassesCommands = ImmutableList.builder();
+    private @Nullable Path resourcesRoot;
+    private @Nullable SourcePath unbundledResourcesRoot;
+    private @Nullable SourcePath manifestFile;
+    private @Nullable String mavenCoords;
+    private @Nullable SourcePath mavenPomTemplate;
+    private ImmutableSortedSet.Builder<BuildTarget> exportedDeps = ImmutableSortedSet.naturalOrder();
+    private @Nullable String source;
+    private @Nullable String target;
+    private @Nullable String javaVersion;
+    private @Nullable Path javac;
+    private @Nullable SourcePath javacJar;
+    private @Nullable String compilerClassName;
+    private @Nullable Either<BuiltInJavac, SourcePath> compiler;
+    private ImmutableList.Builder<String> extraArguments = ImmutableList.builder();
+    private ImmutableSet.Builder<Pattern> removeClasses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<BuildTarget> annotationProcessorDeps = ImmutableSortedSet.naturalOrder();
+    private ImmutableList.Builder<String> annotationProcessorParams = ImmutableList.builder();
+    private ImmutableSet.Builder<String> annotationProcessors = ImmutableSet.builder();
+    private @Nullable Boolean annotationProcessorOnly;
+    private ImmutableList.Builder<BuildTarget> plugins = ImmutableList.builder();
+    private @Nullable Boolean generateSourceOnlyAbi;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private boolean requiredForSourceOnlyAbi;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> providedDeps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+    private @Nullable AndroidLibraryDescription.JvmLanguage language;
+    private ImmutableList.Builder<String> extraKotlincArguments = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasContacts} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasContacts instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTestTimeout} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTestTimeout instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasProvidedDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasProvidedDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasSrcs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasSrcs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.android.AndroidKotlinCoreArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidKotlinCoreArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.JavaTestDescription.CoreArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(JavaTestDescription.CoreArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.MaybeRequiredForSourceOnlyAbiArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(MaybeRequiredForSourceOnlyAbiArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RobolectricTestDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(RobolectricTestDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractRobolectricTestDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(RobolectricTestDescription.AbstractRobolectricTestDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.JavaLibraryDescription.CoreArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(JavaLibraryDescription.CoreArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.JvmLibraryArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(JvmLibraryArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.kotlin.KotlinLibraryDescription.CoreArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(KotlinLibraryDescription.CoreArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasContacts) {
+        HasContacts instance = (HasContacts) object;
+        addAllContacts(instance.getContacts());
+      }
+      if (object instanceof HasTestTimeout) {
+        HasTestTimeout instance = (HasTestTimeout) object;
+        Optional<Long> testRuleTimeoutMsOptional = instance.getTestRuleTimeoutMs();
+        if (testRuleTimeoutMsOptional.isPresent()) {
+          setTestRuleTimeoutMs(testRuleTimeoutMsOptional);
+        }
+      }
+      if (object instanceof HasProvidedDeps) {
+        HasProvidedDeps instance = (HasProvidedDeps) object;
+        addAllProvidedDeps(instance.getProvidedDeps());
+      }
+      if (object instanceof HasSrcs) {
+        HasSrcs instance = (HasSrcs) object;
+        addAllSrcs(instance.getSrcs());
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof AndroidKotlinCoreArg) {
+        AndroidKotlinCoreArg instance = (AndroidKotlinCoreArg) object;
+        Optional<AndroidLibraryDescription.JvmLanguage> languageOptional = instance.getLanguage();
+        if (languageOptional.isPresent()) {
+          setLanguage(languageOptional);
+        }
+      }
+      if (object instanceof JavaTestDescription.CoreArg) {
+        JavaTestDescription.CoreArg instance = (JavaTestDescription.CoreArg) object;
+        Optional<Boolean> useCxxLibrariesOptional = instance.getUseCxxLibraries();
+        if (useCxxLibrariesOptional.isPresent()) {
+          setUseCxxLibraries(useCxxLibrariesOptional);
+        }
+        addAllCxxLibraryWhitelist(instance.getCxxLibraryWhitelist());
+        Optional<Level> stdOutLogLevelOptional = instance.getStdOutLogLevel();
+        if (stdOutLogLevelOptional.isPresent()) {
+          setStdOutLogLevel(stdOutLogLevelOptional);
+        }
+        Optional<Level> stdErrLogLevelOptional = instance.getStdErrLogLevel();
+        if (stdErrLogLevelOptional.isPresent()) {
+          setStdErrLogLevel(stdErrLogLevelOptional);
+        }
+        setForkMode(instance.getForkMode());
+        Optional<TestType> testTypeOptional = instance.getTestType();
+        if (testTypeOptional.isPresent()) {
+          setTestType(testTypeOptional);
+        }
+        Optional<Long> testCaseTimeoutMsOptional = instance.getTestCaseTimeoutMs();
+        if (testCaseTimeoutMsOptional.isPresent()) {
+          setTestCaseTimeoutMs(testCaseTimeoutMsOptional);
+        }
+        putAllEnv(instance.getEnv());
+        Optional<Flavor> defaultCxxPlatformOptional = instance.getDefaultCxxPlatform();
+        if (defaultCxxPlatformOptional.isPresent()) {
+          setDefaultCxxPlatform(defaultCxxPlatformOptional);
+        }
+        setRunTestSeparately(instance.getRunTestSeparately());
+        addAllVmArgs(instance.getVmArgs());
+      }
+      if (object instanceof MaybeRequiredForSourceOnlyAbiArg) {
+        MaybeRequiredForSourceOnlyAbiArg instance = (MaybeRequiredForSourceOnlyAbiArg) object;
+        setRequiredForSourceOnlyAbi(instance.getRequiredForSourceOnlyAbi());
+      }
+      if (object instanceof RobolectricTestDescription.AbstractRobolectricTestDescriptionArg) {
+        RobolectricTestDescription.AbstractRobolectricTestDescriptionArg instance = (RobolectricTestDescription.AbstractRobolectricTestDescriptionArg) object;
+        Optional<String> robolectricRuntimeDependencyOptional = instance.getRobolectricRuntimeDependency();
+        if (robolectricRuntimeDependencyOptional.isPresent()) {
+          setRobolectricRuntimeDependency(robolectricRuntimeDependencyOptional);
+        }
+        Optional<SourcePath> robolectricManifestOptional = instance.getRobolectricManifest();
+        if (robolectricManifestOptional.isPresent()) {
+          setRobolectricManifest(robolectricManifestOptional);
+        }
+        setUseOldStyleableFormat(instance.isUseOldStyleableFormat());
+        setForceFinalResourceIds(instance.isForceFinalResourceIds());
+      }
+      if (object instanceof JavaLibraryDescription.CoreArg) {
+        JavaLibraryDescription.CoreArg instance = (JavaLibraryDescription.CoreArg) object;
+        Optional<SourcePath> unbundledResourcesRootOptional = instance.getUnbundledResourcesRoot();
+        if (unbundledResourcesRootOptional.isPresent()) {
+          setUnbundledResourcesRoot(unbundledResourcesRootOptional);
+        }
+        Optional<String> mavenCoordsOptional = instance.getMavenCoords();
+        if (mavenCoordsOptional.isPresent()) {
+          setMavenCoords(mavenCoordsOptional);
+        }
+        Optional<SourcePath> manifestFileOptional = instance.getManifestFile();
+        if (manifestFileOptional.isPresent()) {
+          setManifestFile(manifestFileOptional);
+        }
+        Optional<SourcePath> mavenPomTemplateOptional = instance.getMavenPomTemplate();
+        if (mavenPomTemplateOptional.isPresent()) {
+          setMavenPomTemplate(mavenPomTemplateOptional);
+        }
+        addAllPostprocessClassesCommands(instance.getPostprocessClassesCommands());
+        Optional<Path> resourcesRootOptional = instance.getResourcesRoot();
+        if (resourcesRootOptional.isPresent()) {
+          setResourcesRoot(resourcesRootOptional);
+        }
+        addAllResources(instance.getResources());
+        addAllExportedDeps(instance.getExportedDeps());
+        Optional<SourcePath> proguardConfigOptional = instance.getProguardConfig();
+        if (proguardConfigOptional.isPresent()) {
+          setProguardConfig(proguardConfigOptional);
+        }
+      }
+      if (object instanceof JvmLibraryArg) {
+        JvmLibraryArg instance = (JvmLibraryArg) object;
+        addAllRemoveClasses(instance.getRemoveClasses());
+        Optional<Path> javacOptional = instance.getJavac();
+        if (javacOptional.isPresent()) {
+          setJavac(javacOptional);
+        }
+        addAllAnnotationProcessorParams(instance.getAnnotationProcessorParams());
+        Optional<SourcePath> javacJarOptional = instance.getJavacJar();
+        if (javacJarOptional.isPresent()) {
+          setJavacJar(javacJarOptional);
+        }
+        addAllPlugins(instance.getPlugins());
+        Optional<String> javaVersionOptional = instance.getJavaVersion();
+        if (javaVersionOptional.isPresent()) {
+          setJavaVersion(javaVersionOptional);
+        }
+        addAllAnnotationProcessorDeps(instance.getAnnotationProcessorDeps());
+        Optional<Boolean> annotationProcessorOnlyOptional = instance.getAnnotationProcessorOnly();
+        if (annotationProcessorOnlyOptional.isPresent()) {
+          setAnnotationProcessorOnly(annotationProcessorOnlyOptional);
+        }
+        Optional<String> sourceOptional = instance.getSource();
+        if (sourceOptional.isPresent()) {
+          setSource(sourceOptional);
+        }
+        addAllAnnotationProcessors(instance.getAnnotationProcessors());
+        Optional<String> targetOptional = instance.getTarget();
+        if (targetOptional.isPresent()) {
+          setTarget(targetOptional);
+        }
+        addAllExtraArguments(instance.getExtraArguments());
+        Optional<String> compilerClassNameOptional = instance.getCompilerClassName();
+        if (compilerClassNameOptional.isPresent()) {
+          setCompilerClassName(compilerClassNameOptional);
+        }
+        Optional<Either<BuiltInJavac, SourcePath>> compilerOptional = instance.getCompiler();
+        if (compilerOptional.isPresent()) {
+          setCompiler(compilerOptional);
+        }
+        Optional<Boolean> generateSourceOnlyAbiOptional = instance.getGenerateSourceOnlyAbi();
+        if (generateSourceOnlyAbiOptional.isPresent()) {
+          setGenerateSourceOnlyAbi(generateSourceOnlyAbiOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof KotlinLibraryDescription.CoreArg) {
+        KotlinLibraryDescription.CoreArg instance = (KotlinLibraryDescription.CoreArg) object;
+        addAllExtraKotlincArguments(instance.getExtraKotlincArguments());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRobolectricRuntimeDependency() robolectricRuntimeDependency} to robolectricRuntimeDependency.
+     * @param robolectricRuntimeDependency The value for robolectricRuntimeDependency
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRobolectricRuntimeDependency(String robolectricRuntimeDependency) {
+      this.robolectricRuntimeDependency = Objects.requireNonNull(robolectricRuntimeDependency, "robolectricRuntimeDependency");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRobolectricRuntimeDependency() robolectricRuntimeDependency} to robolectricRuntimeDependency.
+     * @param robolectricRuntimeDependency The value for robolectricRuntimeDependency
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRobolectricRuntimeDependency(Optional<String> robolectricRuntimeDependency) {
+      this.robolectricRuntimeDependency = robolectricRuntimeDependency.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRobolectricManifest() robolectricManifest} to robolectricManifest.
+     * @param robolectricManifest The value for robolectricManifest
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRobolectricManifest(SourcePath robolectricManifest) {
+      this.robolectricManifest = Objects.requireNonNull(robolectricManifest, "robolectricManifest");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRobolectricManifest() robolectricManifest} to robolectricManifest.
+     * @param robolectricManifest The value for robolectricManifest
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRobolectricManifest(Optional<? extends SourcePath> robolectricManifest) {
+      this.robolectricManifest = robolectricManifest.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#isUseOldStyleableFormat() useOldStyleableFormat} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#isUseOldStyleableFormat() useOldStyleableFormat}.</em>
+     * @param useOldStyleableFormat The value for useOldStyleableFormat 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUseOldStyleableFormat(boolean useOldStyleableFormat) {
+      this.useOldStyleableFormat = useOldStyleableFormat;
+      optBits |= OPT_BIT_USE_OLD_STYLEABLE_FORMAT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#isForceFinalResourceIds() forceFinalResourceIds} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#isForceFinalResourceIds() forceFinalResourceIds}.</em>
+     * @param forceFinalResourceIds The value for forceFinalResourceIds 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setForceFinalResourceIds(boolean forceFinalResourceIds) {
+      this.forceFinalResourceIds = forceFinalResourceIds;
+      optBits |= OPT_BIT_FORCE_FINAL_RESOURCE_IDS;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getVmArgs() vmArgs} list.
+     * @param element A vmArgs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addVmArgs(String element) {
+      this.vmArgs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getVmArgs() vmArgs} list.
+     * @param elements An array of vmArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addVmArgs(String... elements) {
+      this.vmArgs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getVmArgs() vmArgs} list.
+     * @param elements An iterable of vmArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVmArgs(Iterable<String> elements) {
+      this.vmArgs = ImmutableList.builder();
+      return addAllVmArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getVmArgs() vmArgs} list.
+     * @param elements An iterable of vmArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllVmArgs(Iterable<String> elements) {
+      this.vmArgs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTestType() testType} to testType.
+     * @param testType The value for testType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestType(TestType testType) {
+      this.testType = Objects.requireNonNull(testType, "testType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTestType() testType} to testType.
+     * @param testType The value for testType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestType(Optional<? extends TestType> testType) {
+      this.testType = testType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRunTestSeparately() runTestSeparately} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRunTestSeparately() runTestSeparately}.</em>
+     * @param runTestSeparately The value for runTestSeparately 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRunTestSeparately(boolean runTestSeparately) {
+      this.runTestSeparately = runTestSeparately;
+      optBits |= OPT_BIT_RUN_TEST_SEPARATELY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getForkMode() forkMode} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getForkMode() forkMode}.</em>
+     * @param forkMode The value for forkMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setForkMode(ForkMode forkMode) {
+      this.forkMode = Objects.requireNonNull(forkMode, "forkMode");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getStdErrLogLevel() stdErrLogLevel} to stdErrLogLevel.
+     * @param stdErrLogLevel The value for stdErrLogLevel
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStdErrLogLevel(Level stdErrLogLevel) {
+      this.stdErrLogLevel = Objects.requireNonNull(stdErrLogLevel, "stdErrLogLevel");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getStdErrLogLevel() stdErrLogLevel} to stdErrLogLevel.
+     * @param stdErrLogLevel The value for stdErrLogLevel
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStdErrLogLevel(Optional<? extends Level> stdErrLogLevel) {
+      this.stdErrLogLevel = stdErrLogLevel.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getStdOutLogLevel() stdOutLogLevel} to stdOutLogLevel.
+     * @param stdOutLogLevel The value for stdOutLogLevel
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStdOutLogLevel(Level stdOutLogLevel) {
+      this.stdOutLogLevel = Objects.requireNonNull(stdOutLogLevel, "stdOutLogLevel");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getStdOutLogLevel() stdOutLogLevel} to stdOutLogLevel.
+     * @param stdOutLogLevel The value for stdOutLogLevel
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStdOutLogLevel(Optional<? extends Level> stdOutLogLevel) {
+      this.stdOutLogLevel = stdOutLogLevel.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getUseCxxLibraries() useCxxLibraries} to useCxxLibraries.
+     * @param useCxxLibraries The value for useCxxLibraries
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUseCxxLibraries(boolean useCxxLibraries) {
+      this.useCxxLibraries = useCxxLibraries;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getUseCxxLibraries() useCxxLibraries} to useCxxLibraries.
+     * @param useCxxLibraries The value for useCxxLibraries
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUseCxxLibraries(Optional<Boolean> useCxxLibraries) {
+      this.useCxxLibraries = useCxxLibraries.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getCxxLibraryWhitelist() cxxLibraryWhitelist} set.
+     * @param element A cxxLibraryWhitelist element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCxxLibraryWhitelist(BuildTarget element) {
+      this.cxxLibraryWhitelist.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getCxxLibraryWhitelist() cxxLibraryWhitelist} set.
+     * @param elements An array of cxxLibraryWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCxxLibraryWhitelist(BuildTarget... elements) {
+      this.cxxLibraryWhitelist.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getCxxLibraryWhitelist() cxxLibraryWhitelist} set.
+     * @param elements An iterable of cxxLibraryWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxLibraryWhitelist(Iterable<? extends BuildTarget> elements) {
+      this.cxxLibraryWhitelist = ImmutableSet.builder();
+      return addAllCxxLibraryWhitelist(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getCxxLibraryWhitelist() cxxLibraryWhitelist} set.
+     * @param elements An iterable of cxxLibraryWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCxxLibraryWhitelist(Iterable<? extends BuildTarget> elements) {
+      this.cxxLibraryWhitelist.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTestCaseTimeoutMs() testCaseTimeoutMs} to testCaseTimeoutMs.
+     * @param testCaseTimeoutMs The value for testCaseTimeoutMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestCaseTimeoutMs(long testCaseTimeoutMs) {
+      this.testCaseTimeoutMs = testCaseTimeoutMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTestCaseTimeoutMs() testCaseTimeoutMs} to testCaseTimeoutMs.
+     * @param testCaseTimeoutMs The value for testCaseTimeoutMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestCaseTimeoutMs(Optional<Long> testCaseTimeoutMs) {
+      this.testCaseTimeoutMs = testCaseTimeoutMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getEnv() env} map.
+     * @param key The key in the env map
+     * @param value The associated value in the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnv(String key, String value) {
+      this.env.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnv(Map.Entry<String, ? extends String> entry) {
+      this.env.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param env The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnv(Map<String, ? extends String> env) {
+      this.env = ImmutableMap.builder();
+      return putAllEnv(env);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param env The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllEnv(Map<String, ? extends String> env) {
+      this.env.putAll(env);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getDefaultCxxPlatform() defaultCxxPlatform} to defaultCxxPlatform.
+     * @param defaultCxxPlatform The value for defaultCxxPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDefaultCxxPlatform(Flavor defaultCxxPlatform) {
+      this.defaultCxxPlatform = Objects.requireNonNull(defaultCxxPlatform, "defaultCxxPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getDefaultCxxPlatform() defaultCxxPlatform} to defaultCxxPlatform.
+     * @param defaultCxxPlatform The value for defaultCxxPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDefaultCxxPlatform(Optional<? extends Flavor> defaultCxxPlatform) {
+      this.defaultCxxPlatform = defaultCxxPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param element A contacts element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addContacts(String element) {
+      this.contacts.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An array of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addContacts(String... elements) {
+      this.contacts.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setContacts(Iterable<String> elements) {
+      this.contacts = ImmutableSortedSet.naturalOrder();
+      return addAllContacts(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllContacts(Iterable<String> elements) {
+      this.contacts.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} to testRuleTimeoutMs.
+     * @param testRuleTimeoutMs The value for testRuleTimeoutMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestRuleTimeoutMs(long testRuleTimeoutMs) {
+      this.testRuleTimeoutMs = testRuleTimeoutMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} to testRuleTimeoutMs.
+     * @param testRuleTimeoutMs The value for testRuleTimeoutMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestRuleTimeoutMs(Optional<Long> testRuleTimeoutMs) {
+      this.testRuleTimeoutMs = testRuleTimeoutMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getResources() resources} sortedSet.
+     * @param element A resources element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addResources(SourcePath element) {
+      this.resources.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An array of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addResources(SourcePath... elements) {
+      this.resources.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An iterable of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResources(Iterable<? extends SourcePath> elements) {
+      this.resources = ImmutableSortedSet.naturalOrder();
+      return addAllResources(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An iterable of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllResources(Iterable<? extends SourcePath> elements) {
+      this.resources.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getProguardConfig() proguardConfig} to proguardConfig.
+     * @param proguardConfig The value for proguardConfig
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProguardConfig(SourcePath proguardConfig) {
+      this.proguardConfig = Objects.requireNonNull(proguardConfig, "proguardConfig");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getProguardConfig() proguardConfig} to proguardConfig.
+     * @param proguardConfig The value for proguardConfig
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProguardConfig(Optional<? extends SourcePath> proguardConfig) {
+      this.proguardConfig = proguardConfig.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param element A postprocessClassesCommands element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPostprocessClassesCommands(String element) {
+      this.postprocessClassesCommands.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param elements An array of postprocessClassesCommands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPostprocessClassesCommands(String... elements) {
+      this.postprocessClassesCommands.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param elements An iterable of postprocessClassesCommands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPostprocessClassesCommands(Iterable<String> elements) {
+      this.postprocessClassesCommands = ImmutableList.builder();
+      return addAllPostprocessClassesCommands(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param elements An iterable of postprocessClassesCommands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPostprocessClassesCommands(Iterable<String> elements) {
+      this.postprocessClassesCommands.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getResourcesRoot() resourcesRoot} to resourcesRoot.
+     * @param resourcesRoot The value for resourcesRoot
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setResourcesRoot(Path resourcesRoot) {
+      this.resourcesRoot = Objects.requireNonNull(resourcesRoot, "resourcesRoot");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getResourcesRoot() resourcesRoot} to resourcesRoot.
+     * @param resourcesRoot The value for resourcesRoot
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResourcesRoot(Optional<? extends Path> resourcesRoot) {
+      this.resourcesRoot = resourcesRoot.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getUnbundledResourcesRoot() unbundledResourcesRoot} to unbundledResourcesRoot.
+     * @param unbundledResourcesRoot The value for unbundledResourcesRoot
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUnbundledResourcesRoot(SourcePath unbundledResourcesRoot) {
+      this.unbundledResourcesRoot = Objects.requireNonNull(unbundledResourcesRoot, "unbundledResourcesRoot");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getUnbundledResourcesRoot() unbundledResourcesRoot} to unbundledResourcesRoot.
+     * @param unbundledResourcesRoot The value for unbundledResourcesRoot
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUnbundledResourcesRoot(Optional<? extends SourcePath> unbundledResourcesRoot) {
+      this.unbundledResourcesRoot = unbundledResourcesRoot.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getManifestFile() manifestFile} to manifestFile.
+     * @param manifestFile The value for manifestFile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setManifestFile(SourcePath manifestFile) {
+      this.manifestFile = Objects.requireNonNull(manifestFile, "manifestFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getManifestFile() manifestFile} to manifestFile.
+     * @param manifestFile The value for manifestFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setManifestFile(Optional<? extends SourcePath> manifestFile) {
+      this.manifestFile = manifestFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getMavenCoords() mavenCoords} to mavenCoords.
+     * @param mavenCoords The value for mavenCoords
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMavenCoords(String mavenCoords) {
+      this.mavenCoords = Objects.requireNonNull(mavenCoords, "mavenCoords");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getMavenCoords() mavenCoords} to mavenCoords.
+     * @param mavenCoords The value for mavenCoords
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMavenCoords(Optional<String> mavenCoords) {
+      this.mavenCoords = mavenCoords.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getMavenPomTemplate() mavenPomTemplate} to mavenPomTemplate.
+     * @param mavenPomTemplate The value for mavenPomTemplate
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMavenPomTemplate(SourcePath mavenPomTemplate) {
+      this.mavenPomTemplate = Objects.requireNonNull(mavenPomTemplate, "mavenPomTemplate");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getMavenPomTemplate() mavenPomTemplate} to mavenPomTemplate.
+     * @param mavenPomTemplate The value for mavenPomTemplate
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMavenPomTemplate(Optional<? extends SourcePath> mavenPomTemplate) {
+      this.mavenPomTemplate = mavenPomTemplate.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param element A exportedDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedDeps(BuildTarget element) {
+      this.exportedDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An array of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedDeps(BuildTarget... elements) {
+      this.exportedDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps = ImmutableSortedSet.naturalOrder();
+      return addAllExportedDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getSource() source} to source.
+     * @param source The value for source
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSource(String source) {
+      this.source = Objects.requireNonNull(source, "source");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getSource() source} to source.
+     * @param source The value for source
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSource(Optional<String> source) {
+      this.source = source.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTarget() target} to target.
+     * @param target The value for target
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTarget(String target) {
+      this.target = Objects.requireNonNull(target, "target");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTarget() target} to target.
+     * @param target The value for target
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTarget(Optional<String> target) {
+      this.target = target.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getJavaVersion() javaVersion} to javaVersion.
+     * @param javaVersion The value for javaVersion
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavaVersion(String javaVersion) {
+      this.javaVersion = Objects.requireNonNull(javaVersion, "javaVersion");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getJavaVersion() javaVersion} to javaVersion.
+     * @param javaVersion The value for javaVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavaVersion(Optional<String> javaVersion) {
+      this.javaVersion = javaVersion.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getJavac() javac} to javac.
+     * @param javac The value for javac
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavac(Path javac) {
+      this.javac = Objects.requireNonNull(javac, "javac");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getJavac() javac} to javac.
+     * @param javac The value for javac
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavac(Optional<? extends Path> javac) {
+      this.javac = javac.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getJavacJar() javacJar} to javacJar.
+     * @param javacJar The value for javacJar
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavacJar(SourcePath javacJar) {
+      this.javacJar = Objects.requireNonNull(javacJar, "javacJar");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getJavacJar() javacJar} to javacJar.
+     * @param javacJar The value for javacJar
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavacJar(Optional<? extends SourcePath> javacJar) {
+      this.javacJar = javacJar.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getCompilerClassName() compilerClassName} to compilerClassName.
+     * @param compilerClassName The value for compilerClassName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCompilerClassName(String compilerClassName) {
+      this.compilerClassName = Objects.requireNonNull(compilerClassName, "compilerClassName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getCompilerClassName() compilerClassName} to compilerClassName.
+     * @param compilerClassName The value for compilerClassName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilerClassName(Optional<String> compilerClassName) {
+      this.compilerClassName = compilerClassName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getCompiler() compiler} to compiler.
+     * @param compiler The value for compiler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCompiler(Either<BuiltInJavac, SourcePath> compiler) {
+      this.compiler = Objects.requireNonNull(compiler, "compiler");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getCompiler() compiler} to compiler.
+     * @param compiler The value for compiler
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompiler(Optional<? extends Either<BuiltInJavac, SourcePath>> compiler) {
+      this.compiler = compiler.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExtraArguments() extraArguments} list.
+     * @param element A extraArguments element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraArguments(String element) {
+      this.extraArguments.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExtraArguments() extraArguments} list.
+     * @param elements An array of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraArguments(String... elements) {
+      this.extraArguments.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExtraArguments() extraArguments} list.
+     * @param elements An iterable of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtraArguments(Iterable<String> elements) {
+      this.extraArguments = ImmutableList.builder();
+      return addAllExtraArguments(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExtraArguments() extraArguments} list.
+     * @param elements An iterable of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExtraArguments(Iterable<String> elements) {
+      this.extraArguments.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRemoveClasses() removeClasses} set.
+     * @param element A removeClasses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRemoveClasses(Pattern element) {
+      this.removeClasses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRemoveClasses() removeClasses} set.
+     * @param elements An array of removeClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRemoveClasses(Pattern... elements) {
+      this.removeClasses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRemoveClasses() removeClasses} set.
+     * @param elements An iterable of removeClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRemoveClasses(Iterable<? extends Pattern> elements) {
+      this.removeClasses = ImmutableSet.builder();
+      return addAllRemoveClasses(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRemoveClasses() removeClasses} set.
+     * @param elements An iterable of removeClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllRemoveClasses(Iterable<? extends Pattern> elements) {
+      this.removeClasses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessorDeps() annotationProcessorDeps} sortedSet.
+     * @param element A annotationProcessorDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAnnotationProcessorDeps(BuildTarget element) {
+      this.annotationProcessorDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessorDeps() annotationProcessorDeps} sortedSet.
+     * @param elements An array of annotationProcessorDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAnnotationProcessorDeps(BuildTarget... elements) {
+      this.annotationProcessorDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessorDeps() annotationProcessorDeps} sortedSet.
+     * @param elements An iterable of annotationProcessorDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAnnotationProcessorDeps(Iterable<? extends BuildTarget> elements) {
+      this.annotationProcessorDeps = ImmutableSortedSet.naturalOrder();
+      return addAllAnnotationProcessorDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessorDeps() annotationProcessorDeps} sortedSet.
+     * @param elements An iterable of annotationProcessorDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllAnnotationProcessorDeps(Iterable<? extends BuildTarget> elements) {
+      this.annotationProcessorDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessorParams() annotationProcessorParams} list.
+     * @param element A annotationProcessorParams element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAnnotationProcessorParams(String element) {
+      this.annotationProcessorParams.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessorParams() annotationProcessorParams} list.
+     * @param elements An array of annotationProcessorParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAnnotationProcessorParams(String... elements) {
+      this.annotationProcessorParams.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessorParams() annotationProcessorParams} list.
+     * @param elements An iterable of annotationProcessorParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAnnotationProcessorParams(Iterable<String> elements) {
+      this.annotationProcessorParams = ImmutableList.builder();
+      return addAllAnnotationProcessorParams(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessorParams() annotationProcessorParams} list.
+     * @param elements An iterable of annotationProcessorParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllAnnotationProcessorParams(Iterable<String> elements) {
+      this.annotationProcessorParams.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessors() annotationProcessors} set.
+     * @param element A annotationProcessors element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAnnotationProcessors(String element) {
+      this.annotationProcessors.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessors() annotationProcessors} set.
+     * @param elements An array of annotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAnnotationProcessors(String... elements) {
+      this.annotationProcessors.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessors() annotationProcessors} set.
+     * @param elements An iterable of annotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAnnotationProcessors(Iterable<String> elements) {
+      this.annotationProcessors = ImmutableSet.builder();
+      return addAllAnnotationProcessors(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessors() annotationProcessors} set.
+     * @param elements An iterable of annotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllAnnotationProcessors(Iterable<String> elements) {
+      this.annotationProcessors.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessorOnly() annotationProcessorOnly} to annotationProcessorOnly.
+     * @param annotationProcessorOnly The value for annotationProcessorOnly
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAnnotationProcessorOnly(boolean annotationProcessorOnly) {
+      this.annotationProcessorOnly = annotationProcessorOnly;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getAnnotationProcessorOnly() annotationProcessorOnly} to annotationProcessorOnly.
+     * @param annotationProcessorOnly The value for annotationProcessorOnly
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAnnotationProcessorOnly(Optional<Boolean> annotationProcessorOnly) {
+      this.annotationProcessorOnly = annotationProcessorOnly.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getPlugins() plugins} list.
+     * @param element A plugins element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPlugins(BuildTarget element) {
+      this.plugins.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getPlugins() plugins} list.
+     * @param elements An array of plugins elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPlugins(BuildTarget... elements) {
+      this.plugins.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getPlugins() plugins} list.
+     * @param elements An iterable of plugins elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlugins(Iterable<? extends BuildTarget> elements) {
+      this.plugins = ImmutableList.builder();
+      return addAllPlugins(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getPlugins() plugins} list.
+     * @param elements An iterable of plugins elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPlugins(Iterable<? extends BuildTarget> elements) {
+      this.plugins.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getGenerateSourceOnlyAbi() generateSourceOnlyAbi} to generateSourceOnlyAbi.
+     * @param generateSourceOnlyAbi The value for generateSourceOnlyAbi
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setGenerateSourceOnlyAbi(boolean generateSourceOnlyAbi) {
+      this.generateSourceOnlyAbi = generateSourceOnlyAbi;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getGenerateSourceOnlyAbi() generateSourceOnlyAbi} to generateSourceOnlyAbi.
+     * @param generateSourceOnlyAbi The value for generateSourceOnlyAbi
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGenerateSourceOnlyAbi(Optional<Boolean> generateSourceOnlyAbi) {
+      this.generateSourceOnlyAbi = generateSourceOnlyAbi.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi}.</em>
+     * @param requiredForSourceOnlyAbi The value for requiredForSourceOnlyAbi 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRequiredForSourceOnlyAbi(boolean requiredForSourceOnlyAbi) {
+      this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+      optBits |= OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getProvidedDeps() providedDeps} sortedSet.
+     * @param element A providedDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addProvidedDeps(BuildTarget element) {
+      this.providedDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getProvidedDeps() providedDeps} sortedSet.
+     * @param elements An array of providedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addProvidedDeps(BuildTarget... elements) {
+      this.providedDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getProvidedDeps() providedDeps} sortedSet.
+     * @param elements An iterable of providedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProvidedDeps(Iterable<? extends BuildTarget> elements) {
+      this.providedDeps = ImmutableSortedSet.naturalOrder();
+      return addAllProvidedDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getProvidedDeps() providedDeps} sortedSet.
+     * @param elements An iterable of providedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllProvidedDeps(Iterable<? extends BuildTarget> elements) {
+      this.providedDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getLanguage() language} to language.
+     * @param language The value for language
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLanguage(AndroidLibraryDescription.JvmLanguage language) {
+      this.language = Objects.requireNonNull(language, "language");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getLanguage() language} to language.
+     * @param language The value for language
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLanguage(Optional<? extends AndroidLibraryDescription.JvmLanguage> language) {
+      this.language = language.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExtraKotlincArguments() extraKotlincArguments} list.
+     * @param element A extraKotlincArguments element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraKotlincArguments(String element) {
+      this.extraKotlincArguments.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExtraKotlincArguments() extraKotlincArguments} list.
+     * @param elements An array of extraKotlincArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraKotlincArguments(String... elements) {
+      this.extraKotlincArguments.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExtraKotlincArguments() extraKotlincArguments} list.
+     * @param elements An iterable of extraKotlincArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtraKotlincArguments(Iterable<String> elements) {
+      this.extraKotlincArguments = ImmutableList.builder();
+      return addAllExtraKotlincArguments(elements);
+    }
+
+    /**
+     * Adds elements to {@link RobolectricTestDescription.AbstractRobolectricTestDescriptionArg#getExtraKotlincArguments() extraKotlincArguments} list.
+     * @param elements An iterable of extraKotlincArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExtraKotlincArguments(Iterable<String> elements) {
+      this.extraKotlincArguments.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link RobolectricTestDescriptionArg RobolectricTestDescriptionArg}.
+     * @return An immutable instance of RobolectricTestDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RobolectricTestDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new RobolectricTestDescriptionArg(this);
+    }
+
+    private boolean useOldStyleableFormatIsSet() {
+      return (optBits & OPT_BIT_USE_OLD_STYLEABLE_FORMAT) != 0;
+    }
+
+    private boolean forceFinalResourceIdsIsSet() {
+      return (optBits & OPT_BIT_FORCE_FINAL_RESOURCE_IDS) != 0;
+    }
+
+    private boolean runTestSeparatelyIsSet() {
+      return (optBits & OPT_BIT_RUN_TEST_SEPARATELY) != 0;
+    }
+
+    private boolean requiredForSourceOnlyAbiIsSet() {
+      return (optBits & OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build RobolectricTestDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
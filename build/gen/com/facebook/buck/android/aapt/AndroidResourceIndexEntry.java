@@ -0,0 +1,381 @@
+package com.facebook.buck.android.aapt;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAndroidResourceIndexEntry}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidResourceIndexEntry.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code AndroidResourceIndexEntry.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAndroidResourceIndexEntry"})
+@Immutable
+public final class AndroidResourceIndexEntry
+    extends AbstractAndroidResourceIndexEntry {
+  private final RDotTxtEntry.RType type;
+  private final String name;
+  private final Integer lineNumber;
+  private final Integer columnNumber;
+  private final Path resourceFilePath;
+
+  private AndroidResourceIndexEntry(
+      RDotTxtEntry.RType type,
+      String name,
+      Integer lineNumber,
+      Integer columnNumber,
+      Path resourceFilePath) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.name = Objects.requireNonNull(name, "name");
+    this.lineNumber = Objects.requireNonNull(lineNumber, "lineNumber");
+    this.columnNumber = Objects.requireNonNull(columnNumber, "columnNumber");
+    this.resourceFilePath = Objects.requireNonNull(resourceFilePath, "resourceFilePath");
+  }
+
+  private AndroidResourceIndexEntry(
+      AndroidResourceIndexEntry original,
+      RDotTxtEntry.RType type,
+      String name,
+      Integer lineNumber,
+      Integer columnNumber,
+      Path resourceFilePath) {
+    this.type = type;
+    this.name = name;
+    this.lineNumber = lineNumber;
+    this.columnNumber = columnNumber;
+    this.resourceFilePath = resourceFilePath;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public RDotTxtEntry.RType getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code lineNumber} attribute
+   */
+  @Override
+  public Integer getLineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * @return The value of the {@code columnNumber} attribute
+   */
+  @Override
+  public Integer getColumnNumber() {
+    return columnNumber;
+  }
+
+  /**
+   * @return The value of the {@code resourceFilePath} attribute
+   */
+  @Override
+  public Path getResourceFilePath() {
+    return resourceFilePath;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidResourceIndexEntry#getType() type} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidResourceIndexEntry withType(RDotTxtEntry.RType value) {
+    if (this.type == value) return this;
+    RDotTxtEntry.RType newValue = Objects.requireNonNull(value, "type");
+    return new AndroidResourceIndexEntry(this, newValue, this.name, this.lineNumber, this.columnNumber, this.resourceFilePath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidResourceIndexEntry#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidResourceIndexEntry withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new AndroidResourceIndexEntry(this, this.type, newValue, this.lineNumber, this.columnNumber, this.resourceFilePath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidResourceIndexEntry#getLineNumber() lineNumber} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for lineNumber
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidResourceIndexEntry withLineNumber(Integer value) {
+    if (this.lineNumber.equals(value)) return this;
+    Integer newValue = Objects.requireNonNull(value, "lineNumber");
+    return new AndroidResourceIndexEntry(this, this.type, this.name, newValue, this.columnNumber, this.resourceFilePath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidResourceIndexEntry#getColumnNumber() columnNumber} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for columnNumber
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidResourceIndexEntry withColumnNumber(Integer value) {
+    if (this.columnNumber.equals(value)) return this;
+    Integer newValue = Objects.requireNonNull(value, "columnNumber");
+    return new AndroidResourceIndexEntry(this, this.type, this.name, this.lineNumber, newValue, this.resourceFilePath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidResourceIndexEntry#getResourceFilePath() resourceFilePath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for resourceFilePath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidResourceIndexEntry withResourceFilePath(Path value) {
+    if (this.resourceFilePath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "resourceFilePath");
+    return new AndroidResourceIndexEntry(this, this.type, this.name, this.lineNumber, this.columnNumber, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidResourceIndexEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidResourceIndexEntry
+        && equalTo((AndroidResourceIndexEntry) another);
+  }
+
+  private boolean equalTo(AndroidResourceIndexEntry another) {
+    return type.equals(another.type)
+        && name.equals(another.name)
+        && lineNumber.equals(another.lineNumber)
+        && columnNumber.equals(another.columnNumber)
+        && resourceFilePath.equals(another.resourceFilePath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code name}, {@code lineNumber}, {@code columnNumber}, {@code resourceFilePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + lineNumber.hashCode();
+    h += (h << 5) + columnNumber.hashCode();
+    h += (h << 5) + resourceFilePath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidResourceIndexEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidResourceIndexEntry")
+        .omitNullValues()
+        .add("type", type)
+        .add("name", name)
+        .add("lineNumber", lineNumber)
+        .add("columnNumber", columnNumber)
+        .add("resourceFilePath", resourceFilePath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AndroidResourceIndexEntry} instance.
+   * @param type The value for the {@code type} attribute
+   * @param name The value for the {@code name} attribute
+   * @param lineNumber The value for the {@code lineNumber} attribute
+   * @param columnNumber The value for the {@code columnNumber} attribute
+   * @param resourceFilePath The value for the {@code resourceFilePath} attribute
+   * @return An immutable AndroidResourceIndexEntry instance
+   */
+  public static AndroidResourceIndexEntry of(RDotTxtEntry.RType type, String name, Integer lineNumber, Integer columnNumber, Path resourceFilePath) {
+    return new AndroidResourceIndexEntry(type, name, lineNumber, columnNumber, resourceFilePath);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAndroidResourceIndexEntry} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AndroidResourceIndexEntry instance
+   */
+  static AndroidResourceIndexEntry copyOf(AbstractAndroidResourceIndexEntry instance) {
+    if (instance instanceof AndroidResourceIndexEntry) {
+      return (AndroidResourceIndexEntry) instance;
+    }
+    return AndroidResourceIndexEntry.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidResourceIndexEntry AndroidResourceIndexEntry}.
+   * @return A new AndroidResourceIndexEntry builder
+   */
+  public static AndroidResourceIndexEntry.Builder builder() {
+    return new AndroidResourceIndexEntry.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidResourceIndexEntry AndroidResourceIndexEntry}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TYPE = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private static final long INIT_BIT_LINE_NUMBER = 0x4L;
+    private static final long INIT_BIT_COLUMN_NUMBER = 0x8L;
+    private static final long INIT_BIT_RESOURCE_FILE_PATH = 0x10L;
+    private long initBits = 0x1fL;
+
+    private @Nullable RDotTxtEntry.RType type;
+    private @Nullable String name;
+    private @Nullable Integer lineNumber;
+    private @Nullable Integer columnNumber;
+    private @Nullable Path resourceFilePath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidResourceIndexEntry} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidResourceIndexEntry instance) {
+      return from((AbstractAndroidResourceIndexEntry) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidResourceIndexEntry} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractAndroidResourceIndexEntry instance) {
+      Objects.requireNonNull(instance, "instance");
+      setType(instance.getType());
+      setName(instance.getName());
+      setLineNumber(instance.getLineNumber());
+      setColumnNumber(instance.getColumnNumber());
+      setResourceFilePath(instance.getResourceFilePath());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidResourceIndexEntry#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setType(RDotTxtEntry.RType type) {
+      this.type = Objects.requireNonNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidResourceIndexEntry#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidResourceIndexEntry#getLineNumber() lineNumber} attribute.
+     * @param lineNumber The value for lineNumber 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLineNumber(Integer lineNumber) {
+      this.lineNumber = Objects.requireNonNull(lineNumber, "lineNumber");
+      initBits &= ~INIT_BIT_LINE_NUMBER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidResourceIndexEntry#getColumnNumber() columnNumber} attribute.
+     * @param columnNumber The value for columnNumber 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setColumnNumber(Integer columnNumber) {
+      this.columnNumber = Objects.requireNonNull(columnNumber, "columnNumber");
+      initBits &= ~INIT_BIT_COLUMN_NUMBER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidResourceIndexEntry#getResourceFilePath() resourceFilePath} attribute.
+     * @param resourceFilePath The value for resourceFilePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResourceFilePath(Path resourceFilePath) {
+      this.resourceFilePath = Objects.requireNonNull(resourceFilePath, "resourceFilePath");
+      initBits &= ~INIT_BIT_RESOURCE_FILE_PATH;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link AndroidResourceIndexEntry AndroidResourceIndexEntry}.
+     * @return An immutable instance of AndroidResourceIndexEntry
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidResourceIndexEntry build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidResourceIndexEntry(null, type, name, lineNumber, columnNumber, resourceFilePath);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      if ((initBits & INIT_BIT_LINE_NUMBER) != 0) attributes.add("lineNumber");
+      if ((initBits & INIT_BIT_COLUMN_NUMBER) != 0) attributes.add("columnNumber");
+      if ((initBits & INIT_BIT_RESOURCE_FILE_PATH) != 0) attributes.add("resourceFilePath");
+      return "Cannot build AndroidResourceIndexEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
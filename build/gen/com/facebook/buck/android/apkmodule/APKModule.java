@@ -0,0 +1,189 @@
+package com.facebook.buck.android.apkmodule;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractAPKModule}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code APKModule.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAPKModule"})
+@Immutable
+public final class APKModule extends AbstractAPKModule {
+  private final String name;
+  private final boolean rootModule;
+  private final String canaryClassName;
+
+  private APKModule(String name) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.rootModule = initShim.isRootModule();
+    this.canaryClassName = initShim.getCanaryClassName();
+    this.initShim = null;
+  }
+
+  private APKModule(APKModule original, String name) {
+    this.name = name;
+    this.rootModule = initShim.isRootModule();
+    this.canaryClassName = initShim.getCanaryClassName();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean rootModule;
+    private int rootModuleBuildStage;
+
+    boolean isRootModule() {
+      if (rootModuleBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (rootModuleBuildStage == STAGE_UNINITIALIZED) {
+        rootModuleBuildStage = STAGE_INITIALIZING;
+        this.rootModule = APKModule.super.isRootModule();
+        rootModuleBuildStage = STAGE_INITIALIZED;
+      }
+      return this.rootModule;
+    }
+    private String canaryClassName;
+    private int canaryClassNameBuildStage;
+
+    String getCanaryClassName() {
+      if (canaryClassNameBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (canaryClassNameBuildStage == STAGE_UNINITIALIZED) {
+        canaryClassNameBuildStage = STAGE_INITIALIZING;
+        this.canaryClassName = Objects.requireNonNull(APKModule.super.getCanaryClassName(), "canaryClassName");
+        canaryClassNameBuildStage = STAGE_INITIALIZED;
+      }
+      return this.canaryClassName;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (rootModuleBuildStage == STAGE_INITIALIZING) attributes.add("rootModule");
+      if (canaryClassNameBuildStage == STAGE_INITIALIZING) attributes.add("canaryClassName");
+      return "Cannot build APKModule, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code rootModule} attribute
+   */
+  @Override
+  public boolean isRootModule() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isRootModule()
+        : this.rootModule;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code canaryClassName} attribute
+   */
+  @Override
+  public String getCanaryClassName() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCanaryClassName()
+        : this.canaryClassName;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAPKModule#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final APKModule withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new APKModule(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code APKModule} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof APKModule
+        && equalTo((APKModule) another);
+  }
+
+  private boolean equalTo(APKModule another) {
+    return name.equals(another.name)
+        && rootModule == another.rootModule
+        && canaryClassName.equals(another.canaryClassName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code rootModule}, {@code canaryClassName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + Booleans.hashCode(rootModule);
+    h += (h << 5) + canaryClassName.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code APKModule} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("APKModule")
+        .omitNullValues()
+        .add("name", name)
+        .add("rootModule", rootModule)
+        .add("canaryClassName", canaryClassName)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code APKModule} instance.
+   * @param name The value for the {@code name} attribute
+   * @return An immutable APKModule instance
+   */
+  public static APKModule of(String name) {
+    return new APKModule(name);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAPKModule} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable APKModule instance
+   */
+  static APKModule copyOf(AbstractAPKModule instance) {
+    if (instance instanceof APKModule) {
+      return (APKModule) instance;
+    }
+    return APKModule.of(instance.getName());
+  }
+}
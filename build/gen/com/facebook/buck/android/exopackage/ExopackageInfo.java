@@ -0,0 +1,1005 @@
+package com.facebook.buck.android.exopackage;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractExopackageInfo}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ExopackageInfo.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractExopackageInfo"})
+@Immutable
+public final class ExopackageInfo extends AbstractExopackageInfo {
+  private final @Nullable ExopackageInfo.DexInfo dexInfo;
+  private final @Nullable ExopackageInfo.NativeLibsInfo nativeLibsInfo;
+  private final @Nullable ExopackageInfo.ResourcesInfo resourcesInfo;
+
+  private ExopackageInfo(
+      @Nullable ExopackageInfo.DexInfo dexInfo,
+      @Nullable ExopackageInfo.NativeLibsInfo nativeLibsInfo,
+      @Nullable ExopackageInfo.ResourcesInfo resourcesInfo) {
+    this.dexInfo = dexInfo;
+    this.nativeLibsInfo = nativeLibsInfo;
+    this.resourcesInfo = resourcesInfo;
+  }
+
+  /**
+   * @return The value of the {@code dexInfo} attribute
+   */
+  @Override
+  public Optional<ExopackageInfo.DexInfo> getDexInfo() {
+    return Optional.ofNullable(dexInfo);
+  }
+
+  /**
+   * @return The value of the {@code nativeLibsInfo} attribute
+   */
+  @Override
+  public Optional<ExopackageInfo.NativeLibsInfo> getNativeLibsInfo() {
+    return Optional.ofNullable(nativeLibsInfo);
+  }
+
+  /**
+   * @return The value of the {@code resourcesInfo} attribute
+   */
+  @Override
+  public Optional<ExopackageInfo.ResourcesInfo> getResourcesInfo() {
+    return Optional.ofNullable(resourcesInfo);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractExopackageInfo#getDexInfo() dexInfo} attribute.
+   * @param value The value for dexInfo
+   * @return A modified copy of {@code this} object
+   */
+  public final ExopackageInfo withDexInfo(ExopackageInfo.DexInfo value) {
+    @Nullable ExopackageInfo.DexInfo newValue = Objects.requireNonNull(value, "dexInfo");
+    if (this.dexInfo == newValue) return this;
+    return validate(new ExopackageInfo(newValue, this.nativeLibsInfo, this.resourcesInfo));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractExopackageInfo#getDexInfo() dexInfo} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for dexInfo
+   * @return A modified copy of {@code this} object
+   */
+  public final ExopackageInfo withDexInfo(Optional<? extends ExopackageInfo.DexInfo> optional) {
+    @Nullable ExopackageInfo.DexInfo value = optional.orElse(null);
+    if (this.dexInfo == value) return this;
+    return validate(new ExopackageInfo(value, this.nativeLibsInfo, this.resourcesInfo));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractExopackageInfo#getNativeLibsInfo() nativeLibsInfo} attribute.
+   * @param value The value for nativeLibsInfo
+   * @return A modified copy of {@code this} object
+   */
+  public final ExopackageInfo withNativeLibsInfo(ExopackageInfo.NativeLibsInfo value) {
+    @Nullable ExopackageInfo.NativeLibsInfo newValue = Objects.requireNonNull(value, "nativeLibsInfo");
+    if (this.nativeLibsInfo == newValue) return this;
+    return validate(new ExopackageInfo(this.dexInfo, newValue, this.resourcesInfo));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractExopackageInfo#getNativeLibsInfo() nativeLibsInfo} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for nativeLibsInfo
+   * @return A modified copy of {@code this} object
+   */
+  public final ExopackageInfo withNativeLibsInfo(Optional<? extends ExopackageInfo.NativeLibsInfo> optional) {
+    @Nullable ExopackageInfo.NativeLibsInfo value = optional.orElse(null);
+    if (this.nativeLibsInfo == value) return this;
+    return validate(new ExopackageInfo(this.dexInfo, value, this.resourcesInfo));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractExopackageInfo#getResourcesInfo() resourcesInfo} attribute.
+   * @param value The value for resourcesInfo
+   * @return A modified copy of {@code this} object
+   */
+  public final ExopackageInfo withResourcesInfo(ExopackageInfo.ResourcesInfo value) {
+    @Nullable ExopackageInfo.ResourcesInfo newValue = Objects.requireNonNull(value, "resourcesInfo");
+    if (this.resourcesInfo == newValue) return this;
+    return validate(new ExopackageInfo(this.dexInfo, this.nativeLibsInfo, newValue));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractExopackageInfo#getResourcesInfo() resourcesInfo} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for resourcesInfo
+   * @return A modified copy of {@code this} object
+   */
+  public final ExopackageInfo withResourcesInfo(Optional<? extends ExopackageInfo.ResourcesInfo> optional) {
+    @Nullable ExopackageInfo.ResourcesInfo value = optional.orElse(null);
+    if (this.resourcesInfo == value) return this;
+    return validate(new ExopackageInfo(this.dexInfo, this.nativeLibsInfo, value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ExopackageInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ExopackageInfo
+        && equalTo((ExopackageInfo) another);
+  }
+
+  private boolean equalTo(ExopackageInfo another) {
+    return Objects.equals(dexInfo, another.dexInfo)
+        && Objects.equals(nativeLibsInfo, another.nativeLibsInfo)
+        && Objects.equals(resourcesInfo, another.resourcesInfo);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code dexInfo}, {@code nativeLibsInfo}, {@code resourcesInfo}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(dexInfo);
+    h += (h << 5) + Objects.hashCode(nativeLibsInfo);
+    h += (h << 5) + Objects.hashCode(resourcesInfo);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExopackageInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExopackageInfo")
+        .omitNullValues()
+        .add("dexInfo", dexInfo)
+        .add("nativeLibsInfo", nativeLibsInfo)
+        .add("resourcesInfo", resourcesInfo)
+        .toString();
+  }
+
+
+  private static ExopackageInfo validate(ExopackageInfo instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractExopackageInfo} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ExopackageInfo instance
+   */
+  static ExopackageInfo copyOf(AbstractExopackageInfo instance) {
+    if (instance instanceof ExopackageInfo) {
+      return (ExopackageInfo) instance;
+    }
+    return ExopackageInfo.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ExopackageInfo ExopackageInfo}.
+   * @return A new ExopackageInfo builder
+   */
+  public static ExopackageInfo.Builder builder() {
+    return new ExopackageInfo.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ExopackageInfo ExopackageInfo}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable ExopackageInfo.DexInfo dexInfo;
+    private @Nullable ExopackageInfo.NativeLibsInfo nativeLibsInfo;
+    private @Nullable ExopackageInfo.ResourcesInfo resourcesInfo;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ExopackageInfo} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ExopackageInfo instance) {
+      return from((AbstractExopackageInfo) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractExopackageInfo} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractExopackageInfo instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<ExopackageInfo.DexInfo> dexInfoOptional = instance.getDexInfo();
+      if (dexInfoOptional.isPresent()) {
+        setDexInfo(dexInfoOptional);
+      }
+      Optional<ExopackageInfo.NativeLibsInfo> nativeLibsInfoOptional = instance.getNativeLibsInfo();
+      if (nativeLibsInfoOptional.isPresent()) {
+        setNativeLibsInfo(nativeLibsInfoOptional);
+      }
+      Optional<ExopackageInfo.ResourcesInfo> resourcesInfoOptional = instance.getResourcesInfo();
+      if (resourcesInfoOptional.isPresent()) {
+        setResourcesInfo(resourcesInfoOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExopackageInfo#getDexInfo() dexInfo} to dexInfo.
+     * @param dexInfo The value for dexInfo
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDexInfo(ExopackageInfo.DexInfo dexInfo) {
+      this.dexInfo = Objects.requireNonNull(dexInfo, "dexInfo");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExopackageInfo#getDexInfo() dexInfo} to dexInfo.
+     * @param dexInfo The value for dexInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDexInfo(Optional<? extends ExopackageInfo.DexInfo> dexInfo) {
+      this.dexInfo = dexInfo.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExopackageInfo#getNativeLibsInfo() nativeLibsInfo} to nativeLibsInfo.
+     * @param nativeLibsInfo The value for nativeLibsInfo
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNativeLibsInfo(ExopackageInfo.NativeLibsInfo nativeLibsInfo) {
+      this.nativeLibsInfo = Objects.requireNonNull(nativeLibsInfo, "nativeLibsInfo");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExopackageInfo#getNativeLibsInfo() nativeLibsInfo} to nativeLibsInfo.
+     * @param nativeLibsInfo The value for nativeLibsInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeLibsInfo(Optional<? extends ExopackageInfo.NativeLibsInfo> nativeLibsInfo) {
+      this.nativeLibsInfo = nativeLibsInfo.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExopackageInfo#getResourcesInfo() resourcesInfo} to resourcesInfo.
+     * @param resourcesInfo The value for resourcesInfo
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setResourcesInfo(ExopackageInfo.ResourcesInfo resourcesInfo) {
+      this.resourcesInfo = Objects.requireNonNull(resourcesInfo, "resourcesInfo");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExopackageInfo#getResourcesInfo() resourcesInfo} to resourcesInfo.
+     * @param resourcesInfo The value for resourcesInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResourcesInfo(Optional<? extends ExopackageInfo.ResourcesInfo> resourcesInfo) {
+      this.resourcesInfo = resourcesInfo.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ExopackageInfo ExopackageInfo}.
+     * @return An immutable instance of ExopackageInfo
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ExopackageInfo build() {
+      return ExopackageInfo.validate(new ExopackageInfo(dexInfo, nativeLibsInfo, resourcesInfo));
+    }
+  }
+
+  /**
+   * Immutable implementation of {@link AbstractExopackageInfo.AbstractNativeLibsInfo}.
+   * <p>
+   * Use the builder to create immutable instances:
+   * {@code ExopackageInfo.NativeLibsInfo.builder()}.
+   * Use the static factory method to create immutable instances:
+   * {@code ExopackageInfo.NativeLibsInfo.of()}.
+   */
+  @Immutable
+  public static final class NativeLibsInfo
+      implements AbstractExopackageInfo.AbstractNativeLibsInfo {
+    private final SourcePath metadata;
+    private final SourcePath directory;
+
+    private NativeLibsInfo(SourcePath metadata, SourcePath directory) {
+      this.metadata = Objects.requireNonNull(metadata, "metadata");
+      this.directory = Objects.requireNonNull(directory, "directory");
+    }
+
+    private NativeLibsInfo(
+        NativeLibsInfo original,
+        SourcePath metadata,
+        SourcePath directory) {
+      this.metadata = metadata;
+      this.directory = directory;
+    }
+
+    /**
+     * @return The value of the {@code metadata} attribute
+     */
+    @Override
+    public SourcePath getMetadata() {
+      return metadata;
+    }
+
+    /**
+     * @return The value of the {@code directory} attribute
+     */
+    @Override
+    public SourcePath getDirectory() {
+      return directory;
+    }
+
+    /**
+     * Copy the current immutable object by setting a value for the {@link AbstractExopackageInfo.AbstractNativeLibsInfo#getMetadata() metadata} attribute.
+     * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param value A new value for metadata
+     * @return A modified copy of the {@code this} object
+     */
+    public final ExopackageInfo.NativeLibsInfo withMetadata(SourcePath value) {
+      if (this.metadata == value) return this;
+      SourcePath newValue = Objects.requireNonNull(value, "metadata");
+      return new ExopackageInfo.NativeLibsInfo(this, newValue, this.directory);
+    }
+
+    /**
+     * Copy the current immutable object by setting a value for the {@link AbstractExopackageInfo.AbstractNativeLibsInfo#getDirectory() directory} attribute.
+     * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param value A new value for directory
+     * @return A modified copy of the {@code this} object
+     */
+    public final ExopackageInfo.NativeLibsInfo withDirectory(SourcePath value) {
+      if (this.directory == value) return this;
+      SourcePath newValue = Objects.requireNonNull(value, "directory");
+      return new ExopackageInfo.NativeLibsInfo(this, this.metadata, newValue);
+    }
+
+    /**
+     * This instance is equal to all instances of {@code NativeLibsInfo} that have equal attribute values.
+     * @return {@code true} if {@code this} is equal to {@code another} instance
+     */
+    @Override
+    public boolean equals(@Nullable Object another) {
+      if (this == another) return true;
+      return another instanceof ExopackageInfo.NativeLibsInfo
+          && equalTo((ExopackageInfo.NativeLibsInfo) another);
+    }
+
+    private boolean equalTo(ExopackageInfo.NativeLibsInfo another) {
+      return metadata.equals(another.metadata)
+          && directory.equals(another.directory);
+    }
+
+    /**
+     * Computes a hash code from attributes: {@code metadata}, {@code directory}.
+     * @return hashCode value
+     */
+    @Override
+    public int hashCode() {
+      int h = 5381;
+      h += (h << 5) + metadata.hashCode();
+      h += (h << 5) + directory.hashCode();
+      return h;
+    }
+
+    /**
+     * Prints the immutable value {@code NativeLibsInfo} with attribute values.
+     * @return A string representation of the value
+     */
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper("NativeLibsInfo")
+          .omitNullValues()
+          .add("metadata", metadata)
+          .add("directory", directory)
+          .toString();
+    }
+
+    /**
+     * Construct a new immutable {@code NativeLibsInfo} instance.
+     * @param metadata The value for the {@code metadata} attribute
+     * @param directory The value for the {@code directory} attribute
+     * @return An immutable NativeLibsInfo instance
+     */
+    public static ExopackageInfo.NativeLibsInfo of(SourcePath metadata, SourcePath directory) {
+      return new ExopackageInfo.NativeLibsInfo(metadata, directory);
+    }
+
+    /**
+     * Creates an immutable copy of a {@link AbstractExopackageInfo.AbstractNativeLibsInfo} value.
+     * Uses accessors to get values to initialize the new immutable instance.
+     * If an instance is already immutable, it is returned as is.
+     * @param instance The instance to copy
+     * @return A copied immutable NativeLibsInfo instance
+     */
+    static ExopackageInfo.NativeLibsInfo copyOf(AbstractExopackageInfo.AbstractNativeLibsInfo instance) {
+      if (instance instanceof ExopackageInfo.NativeLibsInfo) {
+        return (ExopackageInfo.NativeLibsInfo) instance;
+      }
+      return ExopackageInfo.NativeLibsInfo.builder()
+          .from(instance)
+          .build();
+    }
+
+    /**
+     * Creates a builder for {@link ExopackageInfo.NativeLibsInfo NativeLibsInfo}.
+     * @return A new NativeLibsInfo builder
+     */
+    public static ExopackageInfo.NativeLibsInfo.Builder builder() {
+      return new ExopackageInfo.NativeLibsInfo.Builder();
+    }
+
+    /**
+     * Builds instances of type {@link ExopackageInfo.NativeLibsInfo NativeLibsInfo}.
+     * Initialize attributes and then invoke the {@link #build()} method to create an
+     * immutable instance.
+     * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+     * but instead used immediately to create instances.</em>
+     */
+    @NotThreadSafe
+    public static final class Builder {
+      private static final long INIT_BIT_METADATA = 0x1L;
+      private static final long INIT_BIT_DIRECTORY = 0x2L;
+      private long initBits = 0x3L;
+
+      private @Nullable SourcePath metadata;
+      private @Nullable SourcePath directory;
+
+      private Builder() {
+      }
+
+      /**
+       * Fill a builder with attribute values from the provided {@code NativeLibsInfo} instance.
+       * Regular attribute values will be replaced with those from the given instance.
+       * Absent optional values will not replace present values.
+       * @param instance The instance from which to copy values
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder from(ExopackageInfo.NativeLibsInfo instance) {
+        return from((AbstractExopackageInfo.AbstractNativeLibsInfo) instance);
+      }
+
+      /**
+       * Copy abstract value type {@code AbstractNativeLibsInfo} instance into builder.
+       * @param instance The instance from which to copy values
+       * @return {@code this} builder for use in a chained invocation
+       */
+      final Builder from(AbstractExopackageInfo.AbstractNativeLibsInfo instance) {
+        Objects.requireNonNull(instance, "instance");
+        setMetadata(instance.getMetadata());
+        setDirectory(instance.getDirectory());
+        return this;
+      }
+
+      /**
+       * Initializes the value for the {@link AbstractExopackageInfo.AbstractNativeLibsInfo#getMetadata() metadata} attribute.
+       * @param metadata The value for metadata 
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder setMetadata(SourcePath metadata) {
+        this.metadata = Objects.requireNonNull(metadata, "metadata");
+        initBits &= ~INIT_BIT_METADATA;
+        return this;
+      }
+
+
+      /**
+       * Initializes the value for the {@link AbstractExopackageInfo.AbstractNativeLibsInfo#getDirectory() directory} attribute.
+       * @param directory The value for directory 
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder setDirectory(SourcePath directory) {
+        this.directory = Objects.requireNonNull(directory, "directory");
+        initBits &= ~INIT_BIT_DIRECTORY;
+        return this;
+      }
+
+
+      /**
+       * Builds a new {@link ExopackageInfo.NativeLibsInfo NativeLibsInfo}.
+       * @return An immutable instance of NativeLibsInfo
+       * @throws java.lang.IllegalStateException if any required attributes are missing
+       */
+      public ExopackageInfo.NativeLibsInfo build() {
+        if (initBits != 0) {
+          throw new IllegalStateException(formatRequiredAttributesMessage());
+        }
+        return new ExopackageInfo.NativeLibsInfo(null, metadata, directory);
+      }
+
+      private String formatRequiredAttributesMessage() {
+        List<String> attributes = Lists.newArrayList();
+        if ((initBits & INIT_BIT_METADATA) != 0) attributes.add("metadata");
+        if ((initBits & INIT_BIT_DIRECTORY) != 0) attributes.add("directory");
+        return "Cannot build NativeLibsInfo, some of required attributes are not set " + attributes;
+      }
+    }
+  }
+
+  /**
+   * Immutable implementation of {@link AbstractExopackageInfo.AbstractResourcesInfo}.
+   * <p>
+   * Use the builder to create immutable instances:
+   * {@code ExopackageInfo.ResourcesInfo.builder()}.
+   * Use the static factory method to create immutable instances:
+   * {@code ExopackageInfo.ResourcesInfo.of()}.
+   */
+  @Immutable
+  public static final class ResourcesInfo
+      implements AbstractExopackageInfo.AbstractResourcesInfo {
+    private final ImmutableList<ExopackagePathAndHash> resourcesPaths;
+
+    private ResourcesInfo(Iterable<? extends ExopackagePathAndHash> resourcesPaths) {
+      this.resourcesPaths = ImmutableList.copyOf(resourcesPaths);
+    }
+
+    private ResourcesInfo(
+        ResourcesInfo original,
+        ImmutableList<ExopackagePathAndHash> resourcesPaths) {
+      this.resourcesPaths = resourcesPaths;
+    }
+
+    /**
+     * @return The value of the {@code resourcesPaths} attribute
+     */
+    @Override
+    public ImmutableList<ExopackagePathAndHash> getResourcesPaths() {
+      return resourcesPaths;
+    }
+
+    /**
+     * Copy the current immutable object with elements that replace the content of {@link AbstractExopackageInfo.AbstractResourcesInfo#getResourcesPaths() resourcesPaths}.
+     * @param elements The elements to set
+     * @return A modified copy of {@code this} object
+     */
+    public final ExopackageInfo.ResourcesInfo withResourcesPaths(ExopackagePathAndHash... elements) {
+      ImmutableList<ExopackagePathAndHash> newValue = ImmutableList.copyOf(elements);
+      return new ExopackageInfo.ResourcesInfo(this, newValue);
+    }
+
+    /**
+     * Copy the current immutable object with elements that replace the content of {@link AbstractExopackageInfo.AbstractResourcesInfo#getResourcesPaths() resourcesPaths}.
+     * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param elements An iterable of resourcesPaths elements to set
+     * @return A modified copy of {@code this} object
+     */
+    public final ExopackageInfo.ResourcesInfo withResourcesPaths(Iterable<? extends ExopackagePathAndHash> elements) {
+      if (this.resourcesPaths == elements) return this;
+      ImmutableList<ExopackagePathAndHash> newValue = ImmutableList.copyOf(elements);
+      return new ExopackageInfo.ResourcesInfo(this, newValue);
+    }
+
+    /**
+     * This instance is equal to all instances of {@code ResourcesInfo} that have equal attribute values.
+     * @return {@code true} if {@code this} is equal to {@code another} instance
+     */
+    @Override
+    public boolean equals(@Nullable Object another) {
+      if (this == another) return true;
+      return another instanceof ExopackageInfo.ResourcesInfo
+          && equalTo((ExopackageInfo.ResourcesInfo) another);
+    }
+
+    private boolean equalTo(ExopackageInfo.ResourcesInfo another) {
+      return resourcesPaths.equals(another.resourcesPaths);
+    }
+
+    /**
+     * Computes a hash code from attributes: {@code resourcesPaths}.
+     * @return hashCode value
+     */
+    @Override
+    public int hashCode() {
+      int h = 5381;
+      h += (h << 5) + resourcesPaths.hashCode();
+      return h;
+    }
+
+    /**
+     * Prints the immutable value {@code ResourcesInfo} with attribute values.
+     * @return A string representation of the value
+     */
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper("ResourcesInfo")
+          .omitNullValues()
+          .add("resourcesPaths", resourcesPaths)
+          .toString();
+    }
+
+    /**
+     * Construct a new immutable {@code ResourcesInfo} instance.
+     * @param resourcesPaths The value for the {@code resourcesPaths} attribute
+     * @return An immutable ResourcesInfo instance
+     */
+    public static ExopackageInfo.ResourcesInfo of(List<ExopackagePathAndHash> resourcesPaths) {
+      return of((Iterable<? extends ExopackagePathAndHash>) resourcesPaths);
+    }
+
+    /**
+     * Construct a new immutable {@code ResourcesInfo} instance.
+     * @param resourcesPaths The value for the {@code resourcesPaths} attribute
+     * @return An immutable ResourcesInfo instance
+     */
+    public static ExopackageInfo.ResourcesInfo of(Iterable<? extends ExopackagePathAndHash> resourcesPaths) {
+      return new ExopackageInfo.ResourcesInfo(resourcesPaths);
+    }
+
+    /**
+     * Creates an immutable copy of a {@link AbstractExopackageInfo.AbstractResourcesInfo} value.
+     * Uses accessors to get values to initialize the new immutable instance.
+     * If an instance is already immutable, it is returned as is.
+     * @param instance The instance to copy
+     * @return A copied immutable ResourcesInfo instance
+     */
+    static ExopackageInfo.ResourcesInfo copyOf(AbstractExopackageInfo.AbstractResourcesInfo instance) {
+      if (instance instanceof ExopackageInfo.ResourcesInfo) {
+        return (ExopackageInfo.ResourcesInfo) instance;
+      }
+      return ExopackageInfo.ResourcesInfo.builder()
+          .from(instance)
+          .build();
+    }
+
+    /**
+     * Creates a builder for {@link ExopackageInfo.ResourcesInfo ResourcesInfo}.
+     * @return A new ResourcesInfo builder
+     */
+    public static ExopackageInfo.ResourcesInfo.Builder builder() {
+      return new ExopackageInfo.ResourcesInfo.Builder();
+    }
+
+    /**
+     * Builds instances of type {@link ExopackageInfo.ResourcesInfo ResourcesInfo}.
+     * Initialize attributes and then invoke the {@link #build()} method to create an
+     * immutable instance.
+     * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+     * but instead used immediately to create instances.</em>
+     */
+    @NotThreadSafe
+    public static final class Builder {
+      private ImmutableList.Builder<ExopackagePathAndHash> resourcesPaths = ImmutableList.builder();
+
+      private Builder() {
+      }
+
+      /**
+       * Fill a builder with attribute values from the provided {@code ResourcesInfo} instance.
+       * Regular attribute values will be replaced with those from the given instance.
+       * Absent optional values will not replace present values.
+       * Collection elements and entries will be added, not replaced.
+       * @param instance The instance from which to copy values
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder from(ExopackageInfo.ResourcesInfo instance) {
+        return from((AbstractExopackageInfo.AbstractResourcesInfo) instance);
+      }
+
+      /**
+       * Copy abstract value type {@code AbstractResourcesInfo} instance into builder.
+       * @param instance The instance from which to copy values
+       * @return {@code this} builder for use in a chained invocation
+       */
+      final Builder from(AbstractExopackageInfo.AbstractResourcesInfo instance) {
+        Objects.requireNonNull(instance, "instance");
+        addAllResourcesPaths(instance.getResourcesPaths());
+        return this;
+      }
+
+      /**
+       * Adds one element to {@link AbstractExopackageInfo.AbstractResourcesInfo#getResourcesPaths() resourcesPaths} list.
+       * @param element A resourcesPaths element
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder addResourcesPaths(ExopackagePathAndHash element) {
+        this.resourcesPaths.add(element);
+        return this;
+      }
+
+      /**
+       * Adds elements to {@link AbstractExopackageInfo.AbstractResourcesInfo#getResourcesPaths() resourcesPaths} list.
+       * @param elements An array of resourcesPaths elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder addResourcesPaths(ExopackagePathAndHash... elements) {
+        this.resourcesPaths.add(elements);
+        return this;
+      }
+
+
+      /**
+       * Sets or replaces all elements for {@link AbstractExopackageInfo.AbstractResourcesInfo#getResourcesPaths() resourcesPaths} list.
+       * @param elements An iterable of resourcesPaths elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder setResourcesPaths(Iterable<? extends ExopackagePathAndHash> elements) {
+        this.resourcesPaths = ImmutableList.builder();
+        return addAllResourcesPaths(elements);
+      }
+
+      /**
+       * Adds elements to {@link AbstractExopackageInfo.AbstractResourcesInfo#getResourcesPaths() resourcesPaths} list.
+       * @param elements An iterable of resourcesPaths elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder addAllResourcesPaths(Iterable<? extends ExopackagePathAndHash> elements) {
+        this.resourcesPaths.addAll(elements);
+        return this;
+      }
+
+      /**
+       * Builds a new {@link ExopackageInfo.ResourcesInfo ResourcesInfo}.
+       * @return An immutable instance of ResourcesInfo
+       * @throws java.lang.IllegalStateException if any required attributes are missing
+       */
+      public ExopackageInfo.ResourcesInfo build() {
+        return new ExopackageInfo.ResourcesInfo(null, resourcesPaths.build());
+      }
+    }
+  }
+
+  /**
+   * Immutable implementation of {@link AbstractExopackageInfo.AbstractDexInfo}.
+   * <p>
+   * Use the builder to create immutable instances:
+   * {@code ExopackageInfo.DexInfo.builder()}.
+   * Use the static factory method to create immutable instances:
+   * {@code ExopackageInfo.DexInfo.of()}.
+   */
+  @Immutable
+  public static final class DexInfo
+      implements AbstractExopackageInfo.AbstractDexInfo {
+    private final SourcePath metadata;
+    private final SourcePath directory;
+
+    private DexInfo(SourcePath metadata, SourcePath directory) {
+      this.metadata = Objects.requireNonNull(metadata, "metadata");
+      this.directory = Objects.requireNonNull(directory, "directory");
+    }
+
+    private DexInfo(
+        DexInfo original,
+        SourcePath metadata,
+        SourcePath directory) {
+      this.metadata = metadata;
+      this.directory = directory;
+    }
+
+    /**
+     * @return The value of the {@code metadata} attribute
+     */
+    @Override
+    public SourcePath getMetadata() {
+      return metadata;
+    }
+
+    /**
+     * @return The value of the {@code directory} attribute
+     */
+    @Override
+    public SourcePath getDirectory() {
+      return directory;
+    }
+
+    /**
+     * Copy the current immutable object by setting a value for the {@link AbstractExopackageInfo.AbstractDexInfo#getMetadata() metadata} attribute.
+     * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param value A new value for metadata
+     * @return A modified copy of the {@code this} object
+     */
+    public final ExopackageInfo.DexInfo withMetadata(SourcePath value) {
+      if (this.metadata == value) return this;
+      SourcePath newValue = Objects.requireNonNull(value, "metadata");
+      return new ExopackageInfo.DexInfo(this, newValue, this.directory);
+    }
+
+    /**
+     * Copy the current immutable object by setting a value for the {@link AbstractExopackageInfo.AbstractDexInfo#getDirectory() directory} attribute.
+     * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param value A new value for directory
+     * @return A modified copy of the {@code this} object
+     */
+    public final ExopackageInfo.DexInfo withDirectory(SourcePath value) {
+      if (this.directory == value) return this;
+      SourcePath newValue = Objects.requireNonNull(value, "directory");
+      return new ExopackageInfo.DexInfo(this, this.metadata, newValue);
+    }
+
+    /**
+     * This instance is equal to all instances of {@code DexInfo} that have equal attribute values.
+     * @return {@code true} if {@code this} is equal to {@code another} instance
+     */
+    @Override
+    public boolean equals(@Nullable Object another) {
+      if (this == another) return true;
+      return another instanceof ExopackageInfo.DexInfo
+          && equalTo((ExopackageInfo.DexInfo) another);
+    }
+
+    private boolean equalTo(ExopackageInfo.DexInfo another) {
+      return metadata.equals(another.metadata)
+          && directory.equals(another.directory);
+    }
+
+    /**
+     * Computes a hash code from attributes: {@code metadata}, {@code directory}.
+     * @return hashCode value
+     */
+    @Override
+    public int hashCode() {
+      int h = 5381;
+      h += (h << 5) + metadata.hashCode();
+      h += (h << 5) + directory.hashCode();
+      return h;
+    }
+
+    /**
+     * Prints the immutable value {@code DexInfo} with attribute values.
+     * @return A string representation of the value
+     */
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper("DexInfo")
+          .omitNullValues()
+          .add("metadata", metadata)
+          .add("directory", directory)
+          .toString();
+    }
+
+    /**
+     * Construct a new immutable {@code DexInfo} instance.
+     * @param metadata The value for the {@code metadata} attribute
+     * @param directory The value for the {@code directory} attribute
+     * @return An immutable DexInfo instance
+     */
+    public static ExopackageInfo.DexInfo of(SourcePath metadata, SourcePath directory) {
+      return new ExopackageInfo.DexInfo(metadata, directory);
+    }
+
+    /**
+     * Creates an immutable copy of a {@link AbstractExopackageInfo.AbstractDexInfo} value.
+     * Uses accessors to get values to initialize the new immutable instance.
+     * If an instance is already immutable, it is returned as is.
+     * @param instance The instance to copy
+     * @return A copied immutable DexInfo instance
+     */
+    static ExopackageInfo.DexInfo copyOf(AbstractExopackageInfo.AbstractDexInfo instance) {
+      if (instance instanceof ExopackageInfo.DexInfo) {
+        return (ExopackageInfo.DexInfo) instance;
+      }
+      return ExopackageInfo.DexInfo.builder()
+          .from(instance)
+          .build();
+    }
+
+    /**
+     * Creates a builder for {@link ExopackageInfo.DexInfo DexInfo}.
+     * @return A new DexInfo builder
+     */
+    public static ExopackageInfo.DexInfo.Builder builder() {
+      return new ExopackageInfo.DexInfo.Builder();
+    }
+
+    /**
+     * Builds instances of type {@link ExopackageInfo.DexInfo DexInfo}.
+     * Initialize attributes and then invoke the {@link #build()} method to create an
+     * immutable instance.
+     * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+     * but instead used immediately to create instances.</em>
+     */
+    @NotThreadSafe
+    public static final class Builder {
+      private static final long INIT_BIT_METADATA = 0x1L;
+      private static final long INIT_BIT_DIRECTORY = 0x2L;
+      private long initBits = 0x3L;
+
+      private @Nullable SourcePath metadata;
+      private @Nullable SourcePath directory;
+
+      private Builder() {
+      }
+
+      /**
+       * Fill a builder with attribute values from the provided {@code DexInfo} instance.
+       * Regular attribute values will be replaced with those from the given instance.
+       * Absent optional values will not replace present values.
+       * @param instance The instance from which to copy values
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder from(ExopackageInfo.DexInfo instance) {
+        return from((AbstractExopackageInfo.AbstractDexInfo) instance);
+      }
+
+      /**
+       * Copy abstract value type {@code AbstractDexInfo} instance into builder.
+       * @param instance The instance from which to copy values
+       * @return {@code this} builder for use in a chained invocation
+       */
+      final Builder from(AbstractExopackageInfo.AbstractDexInfo instance) {
+        Objects.requireNonNull(instance, "instance");
+        setMetadata(instance.getMetadata());
+        setDirectory(instance.getDirectory());
+        return this;
+      }
+
+      /**
+       * Initializes the value for the {@link AbstractExopackageInfo.AbstractDexInfo#getMetadata() metadata} attribute.
+       * @param metadata The value for metadata 
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder setMetadata(SourcePath metadata) {
+        this.metadata = Objects.requireNonNull(metadata, "metadata");
+        initBits &= ~INIT_BIT_METADATA;
+        return this;
+      }
+
+
+      /**
+       * Initializes the value for the {@link AbstractExopackageInfo.AbstractDexInfo#getDirectory() directory} attribute.
+       * @param directory The value for directory 
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder setDirectory(SourcePath directory) {
+        this.directory = Objects.requireNonNull(directory, "directory");
+        initBits &= ~INIT_BIT_DIRECTORY;
+        return this;
+      }
+
+
+      /**
+       * Builds a new {@link ExopackageInfo.DexInfo DexInfo}.
+       * @return An immutable instance of DexInfo
+       * @throws java.lang.IllegalStateException if any required attributes are missing
+       */
+      public ExopackageInfo.DexInfo build() {
+        if (initBits != 0) {
+          throw new IllegalStateException(formatRequiredAttributesMessage());
+        }
+        return new ExopackageInfo.DexInfo(null, metadata, directory);
+      }
+
+      private String formatRequiredAttributesMessage() {
+        List<String> attributes = Lists.newArrayList();
+        if ((initBits & INIT_BIT_METADATA) != 0) attributes.add("metadata");
+        if ((initBits & INIT_BIT_DIRECTORY) != 0) attributes.add("directory");
+        return "Cannot build DexInfo, some of required attributes are not set " + attributes;
+      }
+    }
+  }
+}
@@ -0,0 +1,2018 @@
+package com.facebook.buck.android.packageable;
+
+import com.facebook.buck.android.apkmodule.APKModule;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.coercer.BuildConfigFields;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Multimap;
+import com.google.common.hash.HashCode;
+import com.google.common.primitives.Booleans;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *A collection of Android content that should be included in an Android package (apk or aar). 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAndroidPackageableCollection"})
+@Immutable
+public final class AndroidPackageableCollection
+    implements AbstractAndroidPackageableCollection {
+  private final AndroidPackageableCollection.ResourceDetails resourceDetails;
+  private final ImmutableMultimap<APKModule, NativeLinkable> nativeLinkables;
+  private final ImmutableMultimap<APKModule, NativeLinkable> nativeLinkablesAssets;
+  private final ImmutableMultimap<APKModule, SourcePath> nativeLibsDirectories;
+  private final ImmutableMultimap<APKModule, SourcePath> nativeLibAssetsDirectories;
+  private final ImmutableSet<SourcePath> assetsDirectories;
+  private final ImmutableSet<SourcePath> proguardConfigs;
+  private final ImmutableSet<SourcePath> classpathEntriesToDex;
+  private final ImmutableMultimap<APKModule, SourcePath> moduleMappedClasspathEntriesToDex;
+  private final ImmutableSet<SourcePath> noDxClasspathEntries;
+  private final ImmutableMap<String, BuildConfigFields> buildConfigs;
+  private final ImmutableSet<SourcePath> pathsToThirdPartyJars;
+  private final ImmutableSet<BuildTarget> javaLibrariesToDex;
+  private final Supplier<ImmutableMap<String, HashCode>> classNamesToHashesSupplier;
+
+  private AndroidPackageableCollection(
+      AndroidPackageableCollection.ResourceDetails resourceDetails,
+      ImmutableMultimap<APKModule, NativeLinkable> nativeLinkables,
+      ImmutableMultimap<APKModule, NativeLinkable> nativeLinkablesAssets,
+      ImmutableMultimap<APKModule, SourcePath> nativeLibsDirectories,
+      ImmutableMultimap<APKModule, SourcePath> nativeLibAssetsDirectories,
+      ImmutableSet<SourcePath> assetsDirectories,
+      ImmutableSet<SourcePath> proguardConfigs,
+      ImmutableSet<SourcePath> classpathEntriesToDex,
+      ImmutableMultimap<APKModule, SourcePath> moduleMappedClasspathEntriesToDex,
+      ImmutableSet<SourcePath> noDxClasspathEntries,
+      ImmutableMap<String, BuildConfigFields> buildConfigs,
+      ImmutableSet<SourcePath> pathsToThirdPartyJars,
+      ImmutableSet<BuildTarget> javaLibrariesToDex,
+      Supplier<ImmutableMap<String, HashCode>> classNamesToHashesSupplier) {
+    this.resourceDetails = resourceDetails;
+    this.nativeLinkables = nativeLinkables;
+    this.nativeLinkablesAssets = nativeLinkablesAssets;
+    this.nativeLibsDirectories = nativeLibsDirectories;
+    this.nativeLibAssetsDirectories = nativeLibAssetsDirectories;
+    this.assetsDirectories = assetsDirectories;
+    this.proguardConfigs = proguardConfigs;
+    this.classpathEntriesToDex = classpathEntriesToDex;
+    this.moduleMappedClasspathEntriesToDex = moduleMappedClasspathEntriesToDex;
+    this.noDxClasspathEntries = noDxClasspathEntries;
+    this.buildConfigs = buildConfigs;
+    this.pathsToThirdPartyJars = pathsToThirdPartyJars;
+    this.javaLibrariesToDex = javaLibrariesToDex;
+    this.classNamesToHashesSupplier = classNamesToHashesSupplier;
+  }
+
+  /**
+   * @return The value of the {@code resourceDetails} attribute
+   */
+  @Override
+  public AndroidPackageableCollection.ResourceDetails getResourceDetails() {
+    return resourceDetails;
+  }
+
+  /**
+   *Native libraries mapped from modules. 
+   */
+  @Override
+  public ImmutableMultimap<APKModule, NativeLinkable> getNativeLinkables() {
+    return nativeLinkables;
+  }
+
+  /**
+   *Native libraries to be packaged as assets. 
+   */
+  @Override
+  public ImmutableMultimap<APKModule, NativeLinkable> getNativeLinkablesAssets() {
+    return nativeLinkablesAssets;
+  }
+
+  /**
+   *Directories containing native libraries. 
+   */
+  @Override
+  public ImmutableMultimap<APKModule, SourcePath> getNativeLibsDirectories() {
+    return nativeLibsDirectories;
+  }
+
+  /**
+   *Directories containing native libraries to be used as assets. 
+   */
+  @Override
+  public ImmutableMultimap<APKModule, SourcePath> getNativeLibAssetsDirectories() {
+    return nativeLibAssetsDirectories;
+  }
+
+  /**
+   * Directories containing assets to be included directly in the apk, under the "assets" directory.
+   */
+  @Override
+  public ImmutableSet<SourcePath> getAssetsDirectories() {
+    return assetsDirectories;
+  }
+
+  /**
+   *Proguard configurations to include when running release builds. 
+   */
+  @Override
+  public ImmutableSet<SourcePath> getProguardConfigs() {
+    return proguardConfigs;
+  }
+
+  /**
+   *Java classes (jars) to include in the package. 
+   */
+  @Override
+  public ImmutableSet<SourcePath> getClasspathEntriesToDex() {
+    return classpathEntriesToDex;
+  }
+
+  /**
+   *Java classes to include in the package sorted into modules 
+   */
+  @Override
+  public ImmutableMultimap<APKModule, SourcePath> getModuleMappedClasspathEntriesToDex() {
+    return moduleMappedClasspathEntriesToDex;
+  }
+
+  /**
+   * Java classes that were used during compilation, but don't got into the package. This is only
+   * used by "buck project". (It's existence is kind of contrary to the purpose of this class, but
+   * we make exceptions for "buck project".)
+   */
+  @Override
+  public ImmutableSet<SourcePath> getNoDxClasspathEntries() {
+    return noDxClasspathEntries;
+  }
+
+  /**
+   * @return The value of the {@code buildConfigs} attribute
+   */
+  @Override
+  public ImmutableMap<String, BuildConfigFields> getBuildConfigs() {
+    return buildConfigs;
+  }
+
+  /**
+   * Prebuilt/third-party jars to be included in the package. For apks, their resources will be
+   * placed directly in the apk.
+   */
+  @Override
+  public ImmutableSet<SourcePath> getPathsToThirdPartyJars() {
+    return pathsToThirdPartyJars;
+  }
+
+  /**
+   * {@link com.facebook.buck.jvm.java.JavaLibrary} rules whose output will be dexed and included in
+   * the package.
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getJavaLibrariesToDex() {
+    return javaLibrariesToDex;
+  }
+
+  /**
+   *See {@link com.facebook.buck.jvm.java.JavaLibrary#getClassNamesToHashes()} 
+   */
+  @Override
+  public Supplier<ImmutableMap<String, HashCode>> getClassNamesToHashesSupplier() {
+    return classNamesToHashesSupplier;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidPackageableCollection#getResourceDetails() resourceDetails} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for resourceDetails
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidPackageableCollection withResourceDetails(AndroidPackageableCollection.ResourceDetails value) {
+    if (this.resourceDetails == value) return this;
+    AndroidPackageableCollection.ResourceDetails newValue = Objects.requireNonNull(value, "resourceDetails");
+    return new AndroidPackageableCollection(
+        newValue,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        this.assetsDirectories,
+        this.proguardConfigs,
+        this.classpathEntriesToDex,
+        this.moduleMappedClasspathEntriesToDex,
+        this.noDxClasspathEntries,
+        this.buildConfigs,
+        this.pathsToThirdPartyJars,
+        this.javaLibrariesToDex,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractAndroidPackageableCollection#getNativeLinkables() nativeLinkables} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the nativeLinkables map
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNativeLinkables(Multimap<? extends APKModule, ? extends NativeLinkable> entries) {
+    if (this.nativeLinkables == entries) return this;
+    ImmutableMultimap<APKModule, NativeLinkable> newValue = ImmutableMultimap.copyOf(entries);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        newValue,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        this.assetsDirectories,
+        this.proguardConfigs,
+        this.classpathEntriesToDex,
+        this.moduleMappedClasspathEntriesToDex,
+        this.noDxClasspathEntries,
+        this.buildConfigs,
+        this.pathsToThirdPartyJars,
+        this.javaLibrariesToDex,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractAndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the nativeLinkablesAssets map
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNativeLinkablesAssets(Multimap<? extends APKModule, ? extends NativeLinkable> entries) {
+    if (this.nativeLinkablesAssets == entries) return this;
+    ImmutableMultimap<APKModule, NativeLinkable> newValue = ImmutableMultimap.copyOf(entries);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        newValue,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        this.assetsDirectories,
+        this.proguardConfigs,
+        this.classpathEntriesToDex,
+        this.moduleMappedClasspathEntriesToDex,
+        this.noDxClasspathEntries,
+        this.buildConfigs,
+        this.pathsToThirdPartyJars,
+        this.javaLibrariesToDex,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractAndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the nativeLibsDirectories map
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNativeLibsDirectories(Multimap<? extends APKModule, ? extends SourcePath> entries) {
+    if (this.nativeLibsDirectories == entries) return this;
+    ImmutableMultimap<APKModule, SourcePath> newValue = ImmutableMultimap.copyOf(entries);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        newValue,
+        this.nativeLibAssetsDirectories,
+        this.assetsDirectories,
+        this.proguardConfigs,
+        this.classpathEntriesToDex,
+        this.moduleMappedClasspathEntriesToDex,
+        this.noDxClasspathEntries,
+        this.buildConfigs,
+        this.pathsToThirdPartyJars,
+        this.javaLibrariesToDex,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractAndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the nativeLibAssetsDirectories map
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNativeLibAssetsDirectories(Multimap<? extends APKModule, ? extends SourcePath> entries) {
+    if (this.nativeLibAssetsDirectories == entries) return this;
+    ImmutableMultimap<APKModule, SourcePath> newValue = ImmutableMultimap.copyOf(entries);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        newValue,
+        this.assetsDirectories,
+        this.proguardConfigs,
+        this.classpathEntriesToDex,
+        this.moduleMappedClasspathEntriesToDex,
+        this.noDxClasspathEntries,
+        this.buildConfigs,
+        this.pathsToThirdPartyJars,
+        this.javaLibrariesToDex,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection#getAssetsDirectories() assetsDirectories}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withAssetsDirectories(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        newValue,
+        this.proguardConfigs,
+        this.classpathEntriesToDex,
+        this.moduleMappedClasspathEntriesToDex,
+        this.noDxClasspathEntries,
+        this.buildConfigs,
+        this.pathsToThirdPartyJars,
+        this.javaLibrariesToDex,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection#getAssetsDirectories() assetsDirectories}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of assetsDirectories elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withAssetsDirectories(Iterable<? extends SourcePath> elements) {
+    if (this.assetsDirectories == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        newValue,
+        this.proguardConfigs,
+        this.classpathEntriesToDex,
+        this.moduleMappedClasspathEntriesToDex,
+        this.noDxClasspathEntries,
+        this.buildConfigs,
+        this.pathsToThirdPartyJars,
+        this.javaLibrariesToDex,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection#getProguardConfigs() proguardConfigs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withProguardConfigs(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        this.assetsDirectories,
+        newValue,
+        this.classpathEntriesToDex,
+        this.moduleMappedClasspathEntriesToDex,
+        this.noDxClasspathEntries,
+        this.buildConfigs,
+        this.pathsToThirdPartyJars,
+        this.javaLibrariesToDex,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection#getProguardConfigs() proguardConfigs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of proguardConfigs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withProguardConfigs(Iterable<? extends SourcePath> elements) {
+    if (this.proguardConfigs == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        this.assetsDirectories,
+        newValue,
+        this.classpathEntriesToDex,
+        this.moduleMappedClasspathEntriesToDex,
+        this.noDxClasspathEntries,
+        this.buildConfigs,
+        this.pathsToThirdPartyJars,
+        this.javaLibrariesToDex,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection#getClasspathEntriesToDex() classpathEntriesToDex}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withClasspathEntriesToDex(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        this.assetsDirectories,
+        this.proguardConfigs,
+        newValue,
+        this.moduleMappedClasspathEntriesToDex,
+        this.noDxClasspathEntries,
+        this.buildConfigs,
+        this.pathsToThirdPartyJars,
+        this.javaLibrariesToDex,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection#getClasspathEntriesToDex() classpathEntriesToDex}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of classpathEntriesToDex elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withClasspathEntriesToDex(Iterable<? extends SourcePath> elements) {
+    if (this.classpathEntriesToDex == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        this.assetsDirectories,
+        this.proguardConfigs,
+        newValue,
+        this.moduleMappedClasspathEntriesToDex,
+        this.noDxClasspathEntries,
+        this.buildConfigs,
+        this.pathsToThirdPartyJars,
+        this.javaLibrariesToDex,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractAndroidPackageableCollection#getModuleMappedClasspathEntriesToDex() moduleMappedClasspathEntriesToDex} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the moduleMappedClasspathEntriesToDex map
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withModuleMappedClasspathEntriesToDex(Multimap<? extends APKModule, ? extends SourcePath> entries) {
+    if (this.moduleMappedClasspathEntriesToDex == entries) return this;
+    ImmutableMultimap<APKModule, SourcePath> newValue = ImmutableMultimap.copyOf(entries);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        this.assetsDirectories,
+        this.proguardConfigs,
+        this.classpathEntriesToDex,
+        newValue,
+        this.noDxClasspathEntries,
+        this.buildConfigs,
+        this.pathsToThirdPartyJars,
+        this.javaLibrariesToDex,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection#getNoDxClasspathEntries() noDxClasspathEntries}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNoDxClasspathEntries(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        this.assetsDirectories,
+        this.proguardConfigs,
+        this.classpathEntriesToDex,
+        this.moduleMappedClasspathEntriesToDex,
+        newValue,
+        this.buildConfigs,
+        this.pathsToThirdPartyJars,
+        this.javaLibrariesToDex,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection#getNoDxClasspathEntries() noDxClasspathEntries}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of noDxClasspathEntries elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNoDxClasspathEntries(Iterable<? extends SourcePath> elements) {
+    if (this.noDxClasspathEntries == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        this.assetsDirectories,
+        this.proguardConfigs,
+        this.classpathEntriesToDex,
+        this.moduleMappedClasspathEntriesToDex,
+        newValue,
+        this.buildConfigs,
+        this.pathsToThirdPartyJars,
+        this.javaLibrariesToDex,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractAndroidPackageableCollection#getBuildConfigs() buildConfigs} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the buildConfigs map
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withBuildConfigs(Map<String, ? extends BuildConfigFields> entries) {
+    if (this.buildConfigs == entries) return this;
+    ImmutableMap<String, BuildConfigFields> newValue = ImmutableMap.copyOf(entries);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        this.assetsDirectories,
+        this.proguardConfigs,
+        this.classpathEntriesToDex,
+        this.moduleMappedClasspathEntriesToDex,
+        this.noDxClasspathEntries,
+        newValue,
+        this.pathsToThirdPartyJars,
+        this.javaLibrariesToDex,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withPathsToThirdPartyJars(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        this.assetsDirectories,
+        this.proguardConfigs,
+        this.classpathEntriesToDex,
+        this.moduleMappedClasspathEntriesToDex,
+        this.noDxClasspathEntries,
+        this.buildConfigs,
+        newValue,
+        this.javaLibrariesToDex,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of pathsToThirdPartyJars elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withPathsToThirdPartyJars(Iterable<? extends SourcePath> elements) {
+    if (this.pathsToThirdPartyJars == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        this.assetsDirectories,
+        this.proguardConfigs,
+        this.classpathEntriesToDex,
+        this.moduleMappedClasspathEntriesToDex,
+        this.noDxClasspathEntries,
+        this.buildConfigs,
+        newValue,
+        this.javaLibrariesToDex,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection#getJavaLibrariesToDex() javaLibrariesToDex}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withJavaLibrariesToDex(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        this.assetsDirectories,
+        this.proguardConfigs,
+        this.classpathEntriesToDex,
+        this.moduleMappedClasspathEntriesToDex,
+        this.noDxClasspathEntries,
+        this.buildConfigs,
+        this.pathsToThirdPartyJars,
+        newValue,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection#getJavaLibrariesToDex() javaLibrariesToDex}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of javaLibrariesToDex elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withJavaLibrariesToDex(Iterable<? extends BuildTarget> elements) {
+    if (this.javaLibrariesToDex == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        this.assetsDirectories,
+        this.proguardConfigs,
+        this.classpathEntriesToDex,
+        this.moduleMappedClasspathEntriesToDex,
+        this.noDxClasspathEntries,
+        this.buildConfigs,
+        this.pathsToThirdPartyJars,
+        newValue,
+        this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidPackageableCollection#getClassNamesToHashesSupplier() classNamesToHashesSupplier} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for classNamesToHashesSupplier
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidPackageableCollection withClassNamesToHashesSupplier(Supplier<ImmutableMap<String, HashCode>> value) {
+    if (this.classNamesToHashesSupplier == value) return this;
+    Supplier<ImmutableMap<String, HashCode>> newValue = Objects.requireNonNull(value, "classNamesToHashesSupplier");
+    return new AndroidPackageableCollection(
+        this.resourceDetails,
+        this.nativeLinkables,
+        this.nativeLinkablesAssets,
+        this.nativeLibsDirectories,
+        this.nativeLibAssetsDirectories,
+        this.assetsDirectories,
+        this.proguardConfigs,
+        this.classpathEntriesToDex,
+        this.moduleMappedClasspathEntriesToDex,
+        this.noDxClasspathEntries,
+        this.buildConfigs,
+        this.pathsToThirdPartyJars,
+        this.javaLibrariesToDex,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidPackageableCollection} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidPackageableCollection
+        && equalTo((AndroidPackageableCollection) another);
+  }
+
+  private boolean equalTo(AndroidPackageableCollection another) {
+    return resourceDetails.equals(another.resourceDetails)
+        && nativeLinkables.equals(another.nativeLinkables)
+        && nativeLinkablesAssets.equals(another.nativeLinkablesAssets)
+        && nativeLibsDirectories.equals(another.nativeLibsDirectories)
+        && nativeLibAssetsDirectories.equals(another.nativeLibAssetsDirectories)
+        && assetsDirectories.equals(another.assetsDirectories)
+        && proguardConfigs.equals(another.proguardConfigs)
+        && classpathEntriesToDex.equals(another.classpathEntriesToDex)
+        && moduleMappedClasspathEntriesToDex.equals(another.moduleMappedClasspathEntriesToDex)
+        && noDxClasspathEntries.equals(another.noDxClasspathEntries)
+        && buildConfigs.equals(another.buildConfigs)
+        && pathsToThirdPartyJars.equals(another.pathsToThirdPartyJars)
+        && javaLibrariesToDex.equals(another.javaLibrariesToDex)
+        && classNamesToHashesSupplier.equals(another.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code resourceDetails}, {@code nativeLinkables}, {@code nativeLinkablesAssets}, {@code nativeLibsDirectories}, {@code nativeLibAssetsDirectories}, {@code assetsDirectories}, {@code proguardConfigs}, {@code classpathEntriesToDex}, {@code moduleMappedClasspathEntriesToDex}, {@code noDxClasspathEntries}, {@code buildConfigs}, {@code pathsToThirdPartyJars}, {@code javaLibrariesToDex}, {@code classNamesToHashesSupplier}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + resourceDetails.hashCode();
+    h += (h << 5) + nativeLinkables.hashCode();
+    h += (h << 5) + nativeLinkablesAssets.hashCode();
+    h += (h << 5) + nativeLibsDirectories.hashCode();
+    h += (h << 5) + nativeLibAssetsDirectories.hashCode();
+    h += (h << 5) + assetsDirectories.hashCode();
+    h += (h << 5) + proguardConfigs.hashCode();
+    h += (h << 5) + classpathEntriesToDex.hashCode();
+    h += (h << 5) + moduleMappedClasspathEntriesToDex.hashCode();
+    h += (h << 5) + noDxClasspathEntries.hashCode();
+    h += (h << 5) + buildConfigs.hashCode();
+    h += (h << 5) + pathsToThirdPartyJars.hashCode();
+    h += (h << 5) + javaLibrariesToDex.hashCode();
+    h += (h << 5) + classNamesToHashesSupplier.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidPackageableCollection} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidPackageableCollection")
+        .omitNullValues()
+        .add("resourceDetails", resourceDetails)
+        .add("nativeLinkables", nativeLinkables)
+        .add("nativeLinkablesAssets", nativeLinkablesAssets)
+        .add("nativeLibsDirectories", nativeLibsDirectories)
+        .add("nativeLibAssetsDirectories", nativeLibAssetsDirectories)
+        .add("assetsDirectories", assetsDirectories)
+        .add("proguardConfigs", proguardConfigs)
+        .add("classpathEntriesToDex", classpathEntriesToDex)
+        .add("moduleMappedClasspathEntriesToDex", moduleMappedClasspathEntriesToDex)
+        .add("noDxClasspathEntries", noDxClasspathEntries)
+        .add("buildConfigs", buildConfigs)
+        .add("pathsToThirdPartyJars", pathsToThirdPartyJars)
+        .add("javaLibrariesToDex", javaLibrariesToDex)
+        .add("classNamesToHashesSupplier", classNamesToHashesSupplier)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAndroidPackageableCollection} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AndroidPackageableCollection instance
+   */
+  static AndroidPackageableCollection copyOf(AbstractAndroidPackageableCollection instance) {
+    if (instance instanceof AndroidPackageableCollection) {
+      return (AndroidPackageableCollection) instance;
+    }
+    return AndroidPackageableCollection.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidPackageableCollection AndroidPackageableCollection}.
+   * @return A new AndroidPackageableCollection builder
+   */
+  public static AndroidPackageableCollection.Builder builder() {
+    return new AndroidPackageableCollection.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidPackageableCollection AndroidPackageableCollection}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_RESOURCE_DETAILS = 0x1L;
+    private static final long INIT_BIT_CLASS_NAMES_TO_HASHES_SUPPLIER = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable AndroidPackageableCollection.ResourceDetails resourceDetails;
+    private ImmutableMultimap.Builder<APKModule, NativeLinkable> nativeLinkables = ImmutableMultimap.builder();
+    private ImmutableMultimap.Builder<APKModule, NativeLinkable> nativeLinkablesAssets = ImmutableMultimap.builder();
+    private ImmutableMultimap.Builder<APKModule, SourcePath> nativeLibsDirectories = ImmutableMultimap.builder();
+    private ImmutableMultimap.Builder<APKModule, SourcePath> nativeLibAssetsDirectories = ImmutableMultimap.builder();
+    private ImmutableSet.Builder<SourcePath> assetsDirectories = ImmutableSet.builder();
+    private ImmutableSet.Builder<SourcePath> proguardConfigs = ImmutableSet.builder();
+    private ImmutableSet.Builder<SourcePath> classpathEntriesToDex = ImmutableSet.builder();
+    private ImmutableMultimap.Builder<APKModule, SourcePath> moduleMappedClasspathEntriesToDex = ImmutableMultimap.builder();
+    private ImmutableSet.Builder<SourcePath> noDxClasspathEntries = ImmutableSet.builder();
+    private ImmutableMap.Builder<String, BuildConfigFields> buildConfigs = ImmutableMap.builder();
+    private ImmutableSet.Builder<SourcePath> pathsToThirdPartyJars = ImmutableSet.builder();
+    private ImmutableSet.Builder<BuildTarget> javaLibrariesToDex = ImmutableSet.builder();
+    private @Nullable Supplier<ImmutableMap<String, HashCode>> classNamesToHashesSupplier;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidPackageableCollection} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidPackageableCollection instance) {
+      return from((AbstractAndroidPackageableCollection) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidPackageableCollection} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractAndroidPackageableCollection instance) {
+      Objects.requireNonNull(instance, "instance");
+      setResourceDetails(instance.getResourceDetails());
+      putAllNativeLinkables(instance.getNativeLinkables());
+      putAllNativeLinkablesAssets(instance.getNativeLinkablesAssets());
+      putAllNativeLibsDirectories(instance.getNativeLibsDirectories());
+      putAllNativeLibAssetsDirectories(instance.getNativeLibAssetsDirectories());
+      addAllAssetsDirectories(instance.getAssetsDirectories());
+      addAllProguardConfigs(instance.getProguardConfigs());
+      addAllClasspathEntriesToDex(instance.getClasspathEntriesToDex());
+      putAllModuleMappedClasspathEntriesToDex(instance.getModuleMappedClasspathEntriesToDex());
+      addAllNoDxClasspathEntries(instance.getNoDxClasspathEntries());
+      putAllBuildConfigs(instance.getBuildConfigs());
+      addAllPathsToThirdPartyJars(instance.getPathsToThirdPartyJars());
+      addAllJavaLibrariesToDex(instance.getJavaLibrariesToDex());
+      setClassNamesToHashesSupplier(instance.getClassNamesToHashesSupplier());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidPackageableCollection#getResourceDetails() resourceDetails} attribute.
+     * @param resourceDetails The value for resourceDetails 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResourceDetails(AndroidPackageableCollection.ResourceDetails resourceDetails) {
+      this.resourceDetails = Objects.requireNonNull(resourceDetails, "resourceDetails");
+      initBits &= ~INIT_BIT_RESOURCE_DETAILS;
+      return this;
+    }
+
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractAndroidPackageableCollection#getNativeLinkables() nativeLinkables} true. Nulls are not permitted
+     * @param key The key for nativeLinkables
+     * @param values The values for nativeLinkables
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putNativeLinkables(APKModule key, NativeLinkable... values) {
+      this.nativeLinkables.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractAndroidPackageableCollection#getNativeLinkables() nativeLinkables} true. Nulls are not permitted
+     * @param key The key for nativeLinkables
+     * @param values The values for nativeLinkables
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllNativeLinkables(APKModule key, Iterable<NativeLinkable> values) {
+      this.nativeLinkables.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractAndroidPackageableCollection#getNativeLinkables() nativeLinkables} map.
+     * @param key The key in the nativeLinkables map
+     * @param value The associated value in the nativeLinkables map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putNativeLinkables(APKModule key, NativeLinkable value) {
+      this.nativeLinkables.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractAndroidPackageableCollection#getNativeLinkables() nativeLinkables} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putNativeLinkables(Map.Entry<? extends APKModule, ? extends NativeLinkable> entry) {
+      this.nativeLinkables.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractAndroidPackageableCollection#getNativeLinkables() nativeLinkables} map. Nulls are not permitted
+     * @param nativeLinkables The entries that will be added to the nativeLinkables map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeLinkables(Multimap<? extends APKModule, ? extends NativeLinkable> nativeLinkables) {
+      this.nativeLinkables = ImmutableMultimap.builder();
+      return putAllNativeLinkables(nativeLinkables);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractAndroidPackageableCollection#getNativeLinkables() nativeLinkables} map. Nulls are not permitted
+     * @param nativeLinkables The entries that will be added to the nativeLinkables map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllNativeLinkables(Multimap<? extends APKModule, ? extends NativeLinkable> nativeLinkables) {
+      this.nativeLinkables.putAll(nativeLinkables);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractAndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets} true. Nulls are not permitted
+     * @param key The key for nativeLinkablesAssets
+     * @param values The values for nativeLinkablesAssets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putNativeLinkablesAssets(APKModule key, NativeLinkable... values) {
+      this.nativeLinkablesAssets.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractAndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets} true. Nulls are not permitted
+     * @param key The key for nativeLinkablesAssets
+     * @param values The values for nativeLinkablesAssets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllNativeLinkablesAssets(APKModule key, Iterable<NativeLinkable> values) {
+      this.nativeLinkablesAssets.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractAndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets} map.
+     * @param key The key in the nativeLinkablesAssets map
+     * @param value The associated value in the nativeLinkablesAssets map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putNativeLinkablesAssets(APKModule key, NativeLinkable value) {
+      this.nativeLinkablesAssets.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractAndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putNativeLinkablesAssets(Map.Entry<? extends APKModule, ? extends NativeLinkable> entry) {
+      this.nativeLinkablesAssets.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractAndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets} map. Nulls are not permitted
+     * @param nativeLinkablesAssets The entries that will be added to the nativeLinkablesAssets map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeLinkablesAssets(Multimap<? extends APKModule, ? extends NativeLinkable> nativeLinkablesAssets) {
+      this.nativeLinkablesAssets = ImmutableMultimap.builder();
+      return putAllNativeLinkablesAssets(nativeLinkablesAssets);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractAndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets} map. Nulls are not permitted
+     * @param nativeLinkablesAssets The entries that will be added to the nativeLinkablesAssets map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllNativeLinkablesAssets(Multimap<? extends APKModule, ? extends NativeLinkable> nativeLinkablesAssets) {
+      this.nativeLinkablesAssets.putAll(nativeLinkablesAssets);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractAndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories} true. Nulls are not permitted
+     * @param key The key for nativeLibsDirectories
+     * @param values The values for nativeLibsDirectories
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putNativeLibsDirectories(APKModule key, SourcePath... values) {
+      this.nativeLibsDirectories.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractAndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories} true. Nulls are not permitted
+     * @param key The key for nativeLibsDirectories
+     * @param values The values for nativeLibsDirectories
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllNativeLibsDirectories(APKModule key, Iterable<SourcePath> values) {
+      this.nativeLibsDirectories.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractAndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories} map.
+     * @param key The key in the nativeLibsDirectories map
+     * @param value The associated value in the nativeLibsDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putNativeLibsDirectories(APKModule key, SourcePath value) {
+      this.nativeLibsDirectories.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractAndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putNativeLibsDirectories(Map.Entry<? extends APKModule, ? extends SourcePath> entry) {
+      this.nativeLibsDirectories.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractAndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories} map. Nulls are not permitted
+     * @param nativeLibsDirectories The entries that will be added to the nativeLibsDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeLibsDirectories(Multimap<? extends APKModule, ? extends SourcePath> nativeLibsDirectories) {
+      this.nativeLibsDirectories = ImmutableMultimap.builder();
+      return putAllNativeLibsDirectories(nativeLibsDirectories);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractAndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories} map. Nulls are not permitted
+     * @param nativeLibsDirectories The entries that will be added to the nativeLibsDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllNativeLibsDirectories(Multimap<? extends APKModule, ? extends SourcePath> nativeLibsDirectories) {
+      this.nativeLibsDirectories.putAll(nativeLibsDirectories);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractAndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories} true. Nulls are not permitted
+     * @param key The key for nativeLibAssetsDirectories
+     * @param values The values for nativeLibAssetsDirectories
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putNativeLibAssetsDirectories(APKModule key, SourcePath... values) {
+      this.nativeLibAssetsDirectories.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractAndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories} true. Nulls are not permitted
+     * @param key The key for nativeLibAssetsDirectories
+     * @param values The values for nativeLibAssetsDirectories
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllNativeLibAssetsDirectories(APKModule key, Iterable<SourcePath> values) {
+      this.nativeLibAssetsDirectories.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractAndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories} map.
+     * @param key The key in the nativeLibAssetsDirectories map
+     * @param value The associated value in the nativeLibAssetsDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putNativeLibAssetsDirectories(APKModule key, SourcePath value) {
+      this.nativeLibAssetsDirectories.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractAndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putNativeLibAssetsDirectories(Map.Entry<? extends APKModule, ? extends SourcePath> entry) {
+      this.nativeLibAssetsDirectories.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractAndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories} map. Nulls are not permitted
+     * @param nativeLibAssetsDirectories The entries that will be added to the nativeLibAssetsDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeLibAssetsDirectories(Multimap<? extends APKModule, ? extends SourcePath> nativeLibAssetsDirectories) {
+      this.nativeLibAssetsDirectories = ImmutableMultimap.builder();
+      return putAllNativeLibAssetsDirectories(nativeLibAssetsDirectories);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractAndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories} map. Nulls are not permitted
+     * @param nativeLibAssetsDirectories The entries that will be added to the nativeLibAssetsDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllNativeLibAssetsDirectories(Multimap<? extends APKModule, ? extends SourcePath> nativeLibAssetsDirectories) {
+      this.nativeLibAssetsDirectories.putAll(nativeLibAssetsDirectories);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidPackageableCollection#getAssetsDirectories() assetsDirectories} set.
+     * @param element A assetsDirectories element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAssetsDirectories(SourcePath element) {
+      this.assetsDirectories.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getAssetsDirectories() assetsDirectories} set.
+     * @param elements An array of assetsDirectories elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAssetsDirectories(SourcePath... elements) {
+      this.assetsDirectories.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection#getAssetsDirectories() assetsDirectories} set.
+     * @param elements An iterable of assetsDirectories elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAssetsDirectories(Iterable<? extends SourcePath> elements) {
+      this.assetsDirectories = ImmutableSet.builder();
+      return addAllAssetsDirectories(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getAssetsDirectories() assetsDirectories} set.
+     * @param elements An iterable of assetsDirectories elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllAssetsDirectories(Iterable<? extends SourcePath> elements) {
+      this.assetsDirectories.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidPackageableCollection#getProguardConfigs() proguardConfigs} set.
+     * @param element A proguardConfigs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addProguardConfigs(SourcePath element) {
+      this.proguardConfigs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getProguardConfigs() proguardConfigs} set.
+     * @param elements An array of proguardConfigs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addProguardConfigs(SourcePath... elements) {
+      this.proguardConfigs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection#getProguardConfigs() proguardConfigs} set.
+     * @param elements An iterable of proguardConfigs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProguardConfigs(Iterable<? extends SourcePath> elements) {
+      this.proguardConfigs = ImmutableSet.builder();
+      return addAllProguardConfigs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getProguardConfigs() proguardConfigs} set.
+     * @param elements An iterable of proguardConfigs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllProguardConfigs(Iterable<? extends SourcePath> elements) {
+      this.proguardConfigs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidPackageableCollection#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param element A classpathEntriesToDex element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addClasspathEntriesToDex(SourcePath element) {
+      this.classpathEntriesToDex.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements An array of classpathEntriesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addClasspathEntriesToDex(SourcePath... elements) {
+      this.classpathEntriesToDex.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements An iterable of classpathEntriesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setClasspathEntriesToDex(Iterable<? extends SourcePath> elements) {
+      this.classpathEntriesToDex = ImmutableSet.builder();
+      return addAllClasspathEntriesToDex(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements An iterable of classpathEntriesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllClasspathEntriesToDex(Iterable<? extends SourcePath> elements) {
+      this.classpathEntriesToDex.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractAndroidPackageableCollection#getModuleMappedClasspathEntriesToDex() moduleMappedClasspathEntriesToDex} true. Nulls are not permitted
+     * @param key The key for moduleMappedClasspathEntriesToDex
+     * @param values The values for moduleMappedClasspathEntriesToDex
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putModuleMappedClasspathEntriesToDex(APKModule key, SourcePath... values) {
+      this.moduleMappedClasspathEntriesToDex.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractAndroidPackageableCollection#getModuleMappedClasspathEntriesToDex() moduleMappedClasspathEntriesToDex} true. Nulls are not permitted
+     * @param key The key for moduleMappedClasspathEntriesToDex
+     * @param values The values for moduleMappedClasspathEntriesToDex
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllModuleMappedClasspathEntriesToDex(APKModule key, Iterable<SourcePath> values) {
+      this.moduleMappedClasspathEntriesToDex.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractAndroidPackageableCollection#getModuleMappedClasspathEntriesToDex() moduleMappedClasspathEntriesToDex} map.
+     * @param key The key in the moduleMappedClasspathEntriesToDex map
+     * @param value The associated value in the moduleMappedClasspathEntriesToDex map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putModuleMappedClasspathEntriesToDex(APKModule key, SourcePath value) {
+      this.moduleMappedClasspathEntriesToDex.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractAndroidPackageableCollection#getModuleMappedClasspathEntriesToDex() moduleMappedClasspathEntriesToDex} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putModuleMappedClasspathEntriesToDex(Map.Entry<? extends APKModule, ? extends SourcePath> entry) {
+      this.moduleMappedClasspathEntriesToDex.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractAndroidPackageableCollection#getModuleMappedClasspathEntriesToDex() moduleMappedClasspathEntriesToDex} map. Nulls are not permitted
+     * @param moduleMappedClasspathEntriesToDex The entries that will be added to the moduleMappedClasspathEntriesToDex map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setModuleMappedClasspathEntriesToDex(Multimap<? extends APKModule, ? extends SourcePath> moduleMappedClasspathEntriesToDex) {
+      this.moduleMappedClasspathEntriesToDex = ImmutableMultimap.builder();
+      return putAllModuleMappedClasspathEntriesToDex(moduleMappedClasspathEntriesToDex);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractAndroidPackageableCollection#getModuleMappedClasspathEntriesToDex() moduleMappedClasspathEntriesToDex} map. Nulls are not permitted
+     * @param moduleMappedClasspathEntriesToDex The entries that will be added to the moduleMappedClasspathEntriesToDex map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllModuleMappedClasspathEntriesToDex(Multimap<? extends APKModule, ? extends SourcePath> moduleMappedClasspathEntriesToDex) {
+      this.moduleMappedClasspathEntriesToDex.putAll(moduleMappedClasspathEntriesToDex);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidPackageableCollection#getNoDxClasspathEntries() noDxClasspathEntries} set.
+     * @param element A noDxClasspathEntries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addNoDxClasspathEntries(SourcePath element) {
+      this.noDxClasspathEntries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getNoDxClasspathEntries() noDxClasspathEntries} set.
+     * @param elements An array of noDxClasspathEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addNoDxClasspathEntries(SourcePath... elements) {
+      this.noDxClasspathEntries.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection#getNoDxClasspathEntries() noDxClasspathEntries} set.
+     * @param elements An iterable of noDxClasspathEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNoDxClasspathEntries(Iterable<? extends SourcePath> elements) {
+      this.noDxClasspathEntries = ImmutableSet.builder();
+      return addAllNoDxClasspathEntries(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getNoDxClasspathEntries() noDxClasspathEntries} set.
+     * @param elements An iterable of noDxClasspathEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllNoDxClasspathEntries(Iterable<? extends SourcePath> elements) {
+      this.noDxClasspathEntries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractAndroidPackageableCollection#getBuildConfigs() buildConfigs} map.
+     * @param key The key in the buildConfigs map
+     * @param value The associated value in the buildConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putBuildConfigs(String key, BuildConfigFields value) {
+      this.buildConfigs.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractAndroidPackageableCollection#getBuildConfigs() buildConfigs} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putBuildConfigs(Map.Entry<String, ? extends BuildConfigFields> entry) {
+      this.buildConfigs.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractAndroidPackageableCollection#getBuildConfigs() buildConfigs} map. Nulls are not permitted
+     * @param buildConfigs The entries that will be added to the buildConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildConfigs(Map<String, ? extends BuildConfigFields> buildConfigs) {
+      this.buildConfigs = ImmutableMap.builder();
+      return putAllBuildConfigs(buildConfigs);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractAndroidPackageableCollection#getBuildConfigs() buildConfigs} map. Nulls are not permitted
+     * @param buildConfigs The entries that will be added to the buildConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllBuildConfigs(Map<String, ? extends BuildConfigFields> buildConfigs) {
+      this.buildConfigs.putAll(buildConfigs);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars} set.
+     * @param element A pathsToThirdPartyJars element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPathsToThirdPartyJars(SourcePath element) {
+      this.pathsToThirdPartyJars.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars} set.
+     * @param elements An array of pathsToThirdPartyJars elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPathsToThirdPartyJars(SourcePath... elements) {
+      this.pathsToThirdPartyJars.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars} set.
+     * @param elements An iterable of pathsToThirdPartyJars elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPathsToThirdPartyJars(Iterable<? extends SourcePath> elements) {
+      this.pathsToThirdPartyJars = ImmutableSet.builder();
+      return addAllPathsToThirdPartyJars(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars} set.
+     * @param elements An iterable of pathsToThirdPartyJars elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPathsToThirdPartyJars(Iterable<? extends SourcePath> elements) {
+      this.pathsToThirdPartyJars.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidPackageableCollection#getJavaLibrariesToDex() javaLibrariesToDex} set.
+     * @param element A javaLibrariesToDex element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addJavaLibrariesToDex(BuildTarget element) {
+      this.javaLibrariesToDex.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getJavaLibrariesToDex() javaLibrariesToDex} set.
+     * @param elements An array of javaLibrariesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addJavaLibrariesToDex(BuildTarget... elements) {
+      this.javaLibrariesToDex.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection#getJavaLibrariesToDex() javaLibrariesToDex} set.
+     * @param elements An iterable of javaLibrariesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavaLibrariesToDex(Iterable<? extends BuildTarget> elements) {
+      this.javaLibrariesToDex = ImmutableSet.builder();
+      return addAllJavaLibrariesToDex(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getJavaLibrariesToDex() javaLibrariesToDex} set.
+     * @param elements An iterable of javaLibrariesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllJavaLibrariesToDex(Iterable<? extends BuildTarget> elements) {
+      this.javaLibrariesToDex.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidPackageableCollection#getClassNamesToHashesSupplier() classNamesToHashesSupplier} attribute.
+     * @param classNamesToHashesSupplier The value for classNamesToHashesSupplier 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setClassNamesToHashesSupplier(Supplier<ImmutableMap<String, HashCode>> classNamesToHashesSupplier) {
+      this.classNamesToHashesSupplier = Objects.requireNonNull(classNamesToHashesSupplier, "classNamesToHashesSupplier");
+      initBits &= ~INIT_BIT_CLASS_NAMES_TO_HASHES_SUPPLIER;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link AndroidPackageableCollection AndroidPackageableCollection}.
+     * @return An immutable instance of AndroidPackageableCollection
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidPackageableCollection build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidPackageableCollection(
+          resourceDetails,
+          nativeLinkables.build(),
+          nativeLinkablesAssets.build(),
+          nativeLibsDirectories.build(),
+          nativeLibAssetsDirectories.build(),
+          assetsDirectories.build(),
+          proguardConfigs.build(),
+          classpathEntriesToDex.build(),
+          moduleMappedClasspathEntriesToDex.build(),
+          noDxClasspathEntries.build(),
+          buildConfigs.build(),
+          pathsToThirdPartyJars.build(),
+          javaLibrariesToDex.build(),
+          classNamesToHashesSupplier);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_RESOURCE_DETAILS) != 0) attributes.add("resourceDetails");
+      if ((initBits & INIT_BIT_CLASS_NAMES_TO_HASHES_SUPPLIER) != 0) attributes.add("classNamesToHashesSupplier");
+      return "Cannot build AndroidPackageableCollection, some of required attributes are not set " + attributes;
+    }
+  }
+
+  /**
+   * Immutable implementation of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails}.
+   * <p>
+   * Use the builder to create immutable instances:
+   * {@code AndroidPackageableCollection.ResourceDetails.builder()}.
+   */
+  @Immutable
+  public static final class ResourceDetails
+      extends AbstractAndroidPackageableCollection.AbstractResourceDetails {
+    private final ImmutableList<SourcePath> resourceDirectories;
+    private final ImmutableSet<SourcePath> whitelistedStringDirectories;
+    private final ImmutableList<BuildTarget> resourcesWithNonEmptyResDir;
+    private final ImmutableSet<BuildTarget> resourcesWithEmptyResButNonEmptyAssetsDir;
+    private final boolean hasResources;
+
+    private ResourceDetails(
+        ImmutableList<SourcePath> resourceDirectories,
+        ImmutableSet<SourcePath> whitelistedStringDirectories,
+        ImmutableList<BuildTarget> resourcesWithNonEmptyResDir,
+        ImmutableSet<BuildTarget> resourcesWithEmptyResButNonEmptyAssetsDir) {
+      this.resourceDirectories = resourceDirectories;
+      this.whitelistedStringDirectories = whitelistedStringDirectories;
+      this.resourcesWithNonEmptyResDir = resourcesWithNonEmptyResDir;
+      this.resourcesWithEmptyResButNonEmptyAssetsDir = resourcesWithEmptyResButNonEmptyAssetsDir;
+      this.hasResources = super.hasResources();
+    }
+
+    /**
+     * A list of "res" directories that should be passed to the aapt command to build the APK,
+     * sorted topologically.
+     */
+    @Override
+    public ImmutableList<SourcePath> getResourceDirectories() {
+      return resourceDirectories;
+    }
+
+    /**
+     * A set of "res" directories that contain "whitelisted" strings, i.e. the strings-as-assets
+     * resource filter does not affect these directories.
+     */
+    @Override
+    public ImmutableSet<SourcePath> getWhitelistedStringDirectories() {
+      return whitelistedStringDirectories;
+    }
+
+    /**
+     * A list of build targets belonging to {@link com.facebook.buck.android.AndroidResource}s with
+     * non-empty "res" directory, sorted topologically. Note that these are {@link BuildTarget}s to
+     * avoid introducing a circular dependency.
+     */
+    @Override
+    public ImmutableList<BuildTarget> getResourcesWithNonEmptyResDir() {
+      return resourcesWithNonEmptyResDir;
+    }
+
+    /**
+     *Unlike {@link #getResourcesWithNonEmptyResDir}, these resources only contain "assets". 
+     */
+    @Override
+    public ImmutableSet<BuildTarget> getResourcesWithEmptyResButNonEmptyAssetsDir() {
+      return resourcesWithEmptyResButNonEmptyAssetsDir;
+    }
+
+    /**
+     * @return The computed-at-construction value of the {@code hasResources} attribute
+     */
+    @Override
+    public boolean hasResources() {
+      return hasResources;
+    }
+
+    /**
+     * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourceDirectories() resourceDirectories}.
+     * @param elements The elements to set
+     * @return A modified copy of {@code this} object
+     */
+    public final AndroidPackageableCollection.ResourceDetails withResourceDirectories(SourcePath... elements) {
+      ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+      return new AndroidPackageableCollection.ResourceDetails(
+          newValue,
+          this.whitelistedStringDirectories,
+          this.resourcesWithNonEmptyResDir,
+          this.resourcesWithEmptyResButNonEmptyAssetsDir);
+    }
+
+    /**
+     * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourceDirectories() resourceDirectories}.
+     * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param elements An iterable of resourceDirectories elements to set
+     * @return A modified copy of {@code this} object
+     */
+    public final AndroidPackageableCollection.ResourceDetails withResourceDirectories(Iterable<? extends SourcePath> elements) {
+      if (this.resourceDirectories == elements) return this;
+      ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+      return new AndroidPackageableCollection.ResourceDetails(
+          newValue,
+          this.whitelistedStringDirectories,
+          this.resourcesWithNonEmptyResDir,
+          this.resourcesWithEmptyResButNonEmptyAssetsDir);
+    }
+
+    /**
+     * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getWhitelistedStringDirectories() whitelistedStringDirectories}.
+     * @param elements The elements to set
+     * @return A modified copy of {@code this} object
+     */
+    public final AndroidPackageableCollection.ResourceDetails withWhitelistedStringDirectories(SourcePath... elements) {
+      ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+      return new AndroidPackageableCollection.ResourceDetails(
+          this.resourceDirectories,
+          newValue,
+          this.resourcesWithNonEmptyResDir,
+          this.resourcesWithEmptyResButNonEmptyAssetsDir);
+    }
+
+    /**
+     * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getWhitelistedStringDirectories() whitelistedStringDirectories}.
+     * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param elements An iterable of whitelistedStringDirectories elements to set
+     * @return A modified copy of {@code this} object
+     */
+    public final AndroidPackageableCollection.ResourceDetails withWhitelistedStringDirectories(Iterable<? extends SourcePath> elements) {
+      if (this.whitelistedStringDirectories == elements) return this;
+      ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+      return new AndroidPackageableCollection.ResourceDetails(
+          this.resourceDirectories,
+          newValue,
+          this.resourcesWithNonEmptyResDir,
+          this.resourcesWithEmptyResButNonEmptyAssetsDir);
+    }
+
+    /**
+     * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithNonEmptyResDir() resourcesWithNonEmptyResDir}.
+     * @param elements The elements to set
+     * @return A modified copy of {@code this} object
+     */
+    public final AndroidPackageableCollection.ResourceDetails withResourcesWithNonEmptyResDir(BuildTarget... elements) {
+      ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+      return new AndroidPackageableCollection.ResourceDetails(
+          this.resourceDirectories,
+          this.whitelistedStringDirectories,
+          newValue,
+          this.resourcesWithEmptyResButNonEmptyAssetsDir);
+    }
+
+    /**
+     * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithNonEmptyResDir() resourcesWithNonEmptyResDir}.
+     * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param elements An iterable of resourcesWithNonEmptyResDir elements to set
+     * @return A modified copy of {@code this} object
+     */
+    public final AndroidPackageableCollection.ResourceDetails withResourcesWithNonEmptyResDir(Iterable<? extends BuildTarget> elements) {
+      if (this.resourcesWithNonEmptyResDir == elements) return this;
+      ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+      return new AndroidPackageableCollection.ResourceDetails(
+          this.resourceDirectories,
+          this.whitelistedStringDirectories,
+          newValue,
+          this.resourcesWithEmptyResButNonEmptyAssetsDir);
+    }
+
+    /**
+     * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithEmptyResButNonEmptyAssetsDir() resourcesWithEmptyResButNonEmptyAssetsDir}.
+     * @param elements The elements to set
+     * @return A modified copy of {@code this} object
+     */
+    public final AndroidPackageableCollection.ResourceDetails withResourcesWithEmptyResButNonEmptyAssetsDir(BuildTarget... elements) {
+      ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+      return new AndroidPackageableCollection.ResourceDetails(
+          this.resourceDirectories,
+          this.whitelistedStringDirectories,
+          this.resourcesWithNonEmptyResDir,
+          newValue);
+    }
+
+    /**
+     * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithEmptyResButNonEmptyAssetsDir() resourcesWithEmptyResButNonEmptyAssetsDir}.
+     * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param elements An iterable of resourcesWithEmptyResButNonEmptyAssetsDir elements to set
+     * @return A modified copy of {@code this} object
+     */
+    public final AndroidPackageableCollection.ResourceDetails withResourcesWithEmptyResButNonEmptyAssetsDir(Iterable<? extends BuildTarget> elements) {
+      if (this.resourcesWithEmptyResButNonEmptyAssetsDir == elements) return this;
+      ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+      return new AndroidPackageableCollection.ResourceDetails(
+          this.resourceDirectories,
+          this.whitelistedStringDirectories,
+          this.resourcesWithNonEmptyResDir,
+          newValue);
+    }
+
+    /**
+     * This instance is equal to all instances of {@code ResourceDetails} that have equal attribute values.
+     * @return {@code true} if {@code this} is equal to {@code another} instance
+     */
+    @Override
+    public boolean equals(@Nullable Object another) {
+      if (this == another) return true;
+      return another instanceof AndroidPackageableCollection.ResourceDetails
+          && equalTo((AndroidPackageableCollection.ResourceDetails) another);
+    }
+
+    private boolean equalTo(AndroidPackageableCollection.ResourceDetails another) {
+      return resourceDirectories.equals(another.resourceDirectories)
+          && whitelistedStringDirectories.equals(another.whitelistedStringDirectories)
+          && resourcesWithNonEmptyResDir.equals(another.resourcesWithNonEmptyResDir)
+          && resourcesWithEmptyResButNonEmptyAssetsDir.equals(another.resourcesWithEmptyResButNonEmptyAssetsDir)
+          && hasResources == another.hasResources;
+    }
+
+    /**
+     * Computes a hash code from attributes: {@code resourceDirectories}, {@code whitelistedStringDirectories}, {@code resourcesWithNonEmptyResDir}, {@code resourcesWithEmptyResButNonEmptyAssetsDir}, {@code hasResources}.
+     * @return hashCode value
+     */
+    @Override
+    public int hashCode() {
+      int h = 5381;
+      h += (h << 5) + resourceDirectories.hashCode();
+      h += (h << 5) + whitelistedStringDirectories.hashCode();
+      h += (h << 5) + resourcesWithNonEmptyResDir.hashCode();
+      h += (h << 5) + resourcesWithEmptyResButNonEmptyAssetsDir.hashCode();
+      h += (h << 5) + Booleans.hashCode(hasResources);
+      return h;
+    }
+
+    /**
+     * Prints the immutable value {@code ResourceDetails} with attribute values.
+     * @return A string representation of the value
+     */
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper("ResourceDetails")
+          .omitNullValues()
+          .add("resourceDirectories", resourceDirectories)
+          .add("whitelistedStringDirectories", whitelistedStringDirectories)
+          .add("resourcesWithNonEmptyResDir", resourcesWithNonEmptyResDir)
+          .add("resourcesWithEmptyResButNonEmptyAssetsDir", resourcesWithEmptyResButNonEmptyAssetsDir)
+          .add("hasResources", hasResources)
+          .toString();
+    }
+
+    /**
+     * Creates an immutable copy of a {@link AbstractAndroidPackageableCollection.AbstractResourceDetails} value.
+     * Uses accessors to get values to initialize the new immutable instance.
+     * If an instance is already immutable, it is returned as is.
+     * @param instance The instance to copy
+     * @return A copied immutable ResourceDetails instance
+     */
+    public static AndroidPackageableCollection.ResourceDetails copyOf(AbstractAndroidPackageableCollection.AbstractResourceDetails instance) {
+      if (instance instanceof AndroidPackageableCollection.ResourceDetails) {
+        return (AndroidPackageableCollection.ResourceDetails) instance;
+      }
+      return AndroidPackageableCollection.ResourceDetails.builder()
+          .from(instance)
+          .build();
+    }
+
+    /**
+     * Creates a builder for {@link AndroidPackageableCollection.ResourceDetails ResourceDetails}.
+     * @return A new ResourceDetails builder
+     */
+    public static AndroidPackageableCollection.ResourceDetails.Builder builder() {
+      return new AndroidPackageableCollection.ResourceDetails.Builder();
+    }
+
+    /**
+     * Builds instances of type {@link AndroidPackageableCollection.ResourceDetails ResourceDetails}.
+     * Initialize attributes and then invoke the {@link #build()} method to create an
+     * immutable instance.
+     * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+     * but instead used immediately to create instances.</em>
+     */
+    @NotThreadSafe
+    public static final class Builder {
+      private ImmutableList.Builder<SourcePath> resourceDirectories = ImmutableList.builder();
+      private ImmutableSet.Builder<SourcePath> whitelistedStringDirectories = ImmutableSet.builder();
+      private ImmutableList.Builder<BuildTarget> resourcesWithNonEmptyResDir = ImmutableList.builder();
+      private ImmutableSet.Builder<BuildTarget> resourcesWithEmptyResButNonEmptyAssetsDir = ImmutableSet.builder();
+
+      private Builder() {
+      }
+
+      /**
+       * Fill a builder with attribute values from the provided {@code AbstractResourceDetails} instance.
+       * Regular attribute values will be replaced with those from the given instance.
+       * Absent optional values will not replace present values.
+       * Collection elements and entries will be added, not replaced.
+       * @param instance The instance from which to copy values
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder from(AbstractAndroidPackageableCollection.AbstractResourceDetails instance) {
+        Objects.requireNonNull(instance, "instance");
+        addAllResourceDirectories(instance.getResourceDirectories());
+        addAllWhitelistedStringDirectories(instance.getWhitelistedStringDirectories());
+        addAllResourcesWithNonEmptyResDir(instance.getResourcesWithNonEmptyResDir());
+        addAllResourcesWithEmptyResButNonEmptyAssetsDir(instance.getResourcesWithEmptyResButNonEmptyAssetsDir());
+        return this;
+      }
+
+      /**
+       * Adds one element to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourceDirectories() resourceDirectories} list.
+       * @param element A resourceDirectories element
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder addResourceDirectories(SourcePath element) {
+        this.resourceDirectories.add(element);
+        return this;
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourceDirectories() resourceDirectories} list.
+       * @param elements An array of resourceDirectories elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder addResourceDirectories(SourcePath... elements) {
+        this.resourceDirectories.add(elements);
+        return this;
+      }
+
+
+      /**
+       * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourceDirectories() resourceDirectories} list.
+       * @param elements An iterable of resourceDirectories elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder setResourceDirectories(Iterable<? extends SourcePath> elements) {
+        this.resourceDirectories = ImmutableList.builder();
+        return addAllResourceDirectories(elements);
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourceDirectories() resourceDirectories} list.
+       * @param elements An iterable of resourceDirectories elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder addAllResourceDirectories(Iterable<? extends SourcePath> elements) {
+        this.resourceDirectories.addAll(elements);
+        return this;
+      }
+
+      /**
+       * Adds one element to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getWhitelistedStringDirectories() whitelistedStringDirectories} set.
+       * @param element A whitelistedStringDirectories element
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder addWhitelistedStringDirectories(SourcePath element) {
+        this.whitelistedStringDirectories.add(element);
+        return this;
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getWhitelistedStringDirectories() whitelistedStringDirectories} set.
+       * @param elements An array of whitelistedStringDirectories elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder addWhitelistedStringDirectories(SourcePath... elements) {
+        this.whitelistedStringDirectories.add(elements);
+        return this;
+      }
+
+
+      /**
+       * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getWhitelistedStringDirectories() whitelistedStringDirectories} set.
+       * @param elements An iterable of whitelistedStringDirectories elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder setWhitelistedStringDirectories(Iterable<? extends SourcePath> elements) {
+        this.whitelistedStringDirectories = ImmutableSet.builder();
+        return addAllWhitelistedStringDirectories(elements);
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getWhitelistedStringDirectories() whitelistedStringDirectories} set.
+       * @param elements An iterable of whitelistedStringDirectories elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder addAllWhitelistedStringDirectories(Iterable<? extends SourcePath> elements) {
+        this.whitelistedStringDirectories.addAll(elements);
+        return this;
+      }
+
+      /**
+       * Adds one element to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithNonEmptyResDir() resourcesWithNonEmptyResDir} list.
+       * @param element A resourcesWithNonEmptyResDir element
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder addResourcesWithNonEmptyResDir(BuildTarget element) {
+        this.resourcesWithNonEmptyResDir.add(element);
+        return this;
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithNonEmptyResDir() resourcesWithNonEmptyResDir} list.
+       * @param elements An array of resourcesWithNonEmptyResDir elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder addResourcesWithNonEmptyResDir(BuildTarget... elements) {
+        this.resourcesWithNonEmptyResDir.add(elements);
+        return this;
+      }
+
+
+      /**
+       * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithNonEmptyResDir() resourcesWithNonEmptyResDir} list.
+       * @param elements An iterable of resourcesWithNonEmptyResDir elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder setResourcesWithNonEmptyResDir(Iterable<? extends BuildTarget> elements) {
+        this.resourcesWithNonEmptyResDir = ImmutableList.builder();
+        return addAllResourcesWithNonEmptyResDir(elements);
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithNonEmptyResDir() resourcesWithNonEmptyResDir} list.
+       * @param elements An iterable of resourcesWithNonEmptyResDir elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder addAllResourcesWithNonEmptyResDir(Iterable<? extends BuildTarget> elements) {
+        this.resourcesWithNonEmptyResDir.addAll(elements);
+        return this;
+      }
+
+      /**
+       * Adds one element to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithEmptyResButNonEmptyAssetsDir() resourcesWithEmptyResButNonEmptyAssetsDir} set.
+       * @param element A resourcesWithEmptyResButNonEmptyAssetsDir element
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder addResourcesWithEmptyResButNonEmptyAssetsDir(BuildTarget element) {
+        this.resourcesWithEmptyResButNonEmptyAssetsDir.add(element);
+        return this;
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithEmptyResButNonEmptyAssetsDir() resourcesWithEmptyResButNonEmptyAssetsDir} set.
+       * @param elements An array of resourcesWithEmptyResButNonEmptyAssetsDir elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder addResourcesWithEmptyResButNonEmptyAssetsDir(BuildTarget... elements) {
+        this.resourcesWithEmptyResButNonEmptyAssetsDir.add(elements);
+        return this;
+      }
+
+
+      /**
+       * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithEmptyResButNonEmptyAssetsDir() resourcesWithEmptyResButNonEmptyAssetsDir} set.
+       * @param elements An iterable of resourcesWithEmptyResButNonEmptyAssetsDir elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder setResourcesWithEmptyResButNonEmptyAssetsDir(Iterable<? extends BuildTarget> elements) {
+        this.resourcesWithEmptyResButNonEmptyAssetsDir = ImmutableSet.builder();
+        return addAllResourcesWithEmptyResButNonEmptyAssetsDir(elements);
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithEmptyResButNonEmptyAssetsDir() resourcesWithEmptyResButNonEmptyAssetsDir} set.
+       * @param elements An iterable of resourcesWithEmptyResButNonEmptyAssetsDir elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder addAllResourcesWithEmptyResButNonEmptyAssetsDir(Iterable<? extends BuildTarget> elements) {
+        this.resourcesWithEmptyResButNonEmptyAssetsDir.addAll(elements);
+        return this;
+      }
+
+      /**
+       * Builds a new {@link AndroidPackageableCollection.ResourceDetails ResourceDetails}.
+       * @return An immutable instance of ResourceDetails
+       * @throws java.lang.IllegalStateException if any required attributes are missing
+       */
+      public AndroidPackageableCollection.ResourceDetails build() {
+        return new AndroidPackageableCollection.ResourceDetails(
+            resourceDirectories.build(),
+            whitelistedStringDirectories.build(),
+            resourcesWithNonEmptyResDir.build(),
+            resourcesWithEmptyResButNonEmptyAssetsDir.build());
+      }
+    }
+  }
+}
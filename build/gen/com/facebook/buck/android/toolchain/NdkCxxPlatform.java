@@ -0,0 +1,329 @@
+package com.facebook.buck.android.toolchain;
+
+import com.facebook.buck.cxx.toolchain.CxxPlatform;
+import com.facebook.buck.rules.Tool;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Adds Android-specific tools to {@link CxxPlatform}. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNdkCxxPlatform"})
+@Immutable
+public final class NdkCxxPlatform implements AbstractNdkCxxPlatform {
+  private final CxxPlatform cxxPlatform;
+  private final NdkCxxRuntime cxxRuntime;
+  private final Tool objdump;
+  private final @Nullable Path cxxSharedRuntimePath;
+
+  private NdkCxxPlatform(
+      CxxPlatform cxxPlatform,
+      NdkCxxRuntime cxxRuntime,
+      Tool objdump,
+      @Nullable Path cxxSharedRuntimePath) {
+    this.cxxPlatform = cxxPlatform;
+    this.cxxRuntime = cxxRuntime;
+    this.objdump = objdump;
+    this.cxxSharedRuntimePath = cxxSharedRuntimePath;
+  }
+
+  /**
+   * @return The value of the {@code cxxPlatform} attribute
+   */
+  @Override
+  public CxxPlatform getCxxPlatform() {
+    return cxxPlatform;
+  }
+
+  /**
+   * @return The value of the {@code cxxRuntime} attribute
+   */
+  @Override
+  public NdkCxxRuntime getCxxRuntime() {
+    return cxxRuntime;
+  }
+
+  /**
+   * @return The value of the {@code objdump} attribute
+   */
+  @Override
+  public Tool getObjdump() {
+    return objdump;
+  }
+
+  /**
+   *@return the {@link Path} to the C/C++ runtime library, if one is required. 
+   */
+  @Override
+  public Optional<Path> getCxxSharedRuntimePath() {
+    return Optional.ofNullable(cxxSharedRuntimePath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNdkCxxPlatform#getCxxPlatform() cxxPlatform} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cxxPlatform
+   * @return A modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatform withCxxPlatform(CxxPlatform value) {
+    if (this.cxxPlatform == value) return this;
+    CxxPlatform newValue = Objects.requireNonNull(value, "cxxPlatform");
+    return new NdkCxxPlatform(newValue, this.cxxRuntime, this.objdump, this.cxxSharedRuntimePath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNdkCxxPlatform#getCxxRuntime() cxxRuntime} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cxxRuntime
+   * @return A modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatform withCxxRuntime(NdkCxxRuntime value) {
+    if (this.cxxRuntime == value) return this;
+    NdkCxxRuntime newValue = Objects.requireNonNull(value, "cxxRuntime");
+    return new NdkCxxPlatform(this.cxxPlatform, newValue, this.objdump, this.cxxSharedRuntimePath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNdkCxxPlatform#getObjdump() objdump} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for objdump
+   * @return A modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatform withObjdump(Tool value) {
+    if (this.objdump == value) return this;
+    Tool newValue = Objects.requireNonNull(value, "objdump");
+    return new NdkCxxPlatform(this.cxxPlatform, this.cxxRuntime, newValue, this.cxxSharedRuntimePath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNdkCxxPlatform#getCxxSharedRuntimePath() cxxSharedRuntimePath} attribute.
+   * @param value The value for cxxSharedRuntimePath
+   * @return A modified copy of {@code this} object
+   */
+  public final NdkCxxPlatform withCxxSharedRuntimePath(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "cxxSharedRuntimePath");
+    if (this.cxxSharedRuntimePath == newValue) return this;
+    return new NdkCxxPlatform(this.cxxPlatform, this.cxxRuntime, this.objdump, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNdkCxxPlatform#getCxxSharedRuntimePath() cxxSharedRuntimePath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cxxSharedRuntimePath
+   * @return A modified copy of {@code this} object
+   */
+  public final NdkCxxPlatform withCxxSharedRuntimePath(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.cxxSharedRuntimePath == value) return this;
+    return new NdkCxxPlatform(this.cxxPlatform, this.cxxRuntime, this.objdump, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NdkCxxPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NdkCxxPlatform
+        && equalTo((NdkCxxPlatform) another);
+  }
+
+  private boolean equalTo(NdkCxxPlatform another) {
+    return cxxPlatform.equals(another.cxxPlatform)
+        && cxxRuntime.equals(another.cxxRuntime)
+        && objdump.equals(another.objdump)
+        && Objects.equals(cxxSharedRuntimePath, another.cxxSharedRuntimePath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cxxPlatform}, {@code cxxRuntime}, {@code objdump}, {@code cxxSharedRuntimePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + cxxPlatform.hashCode();
+    h += (h << 5) + cxxRuntime.hashCode();
+    h += (h << 5) + objdump.hashCode();
+    h += (h << 5) + Objects.hashCode(cxxSharedRuntimePath);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NdkCxxPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NdkCxxPlatform")
+        .omitNullValues()
+        .add("cxxPlatform", cxxPlatform)
+        .add("cxxRuntime", cxxRuntime)
+        .add("objdump", objdump)
+        .add("cxxSharedRuntimePath", cxxSharedRuntimePath)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractNdkCxxPlatform} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable NdkCxxPlatform instance
+   */
+  static NdkCxxPlatform copyOf(AbstractNdkCxxPlatform instance) {
+    if (instance instanceof NdkCxxPlatform) {
+      return (NdkCxxPlatform) instance;
+    }
+    return NdkCxxPlatform.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link NdkCxxPlatform NdkCxxPlatform}.
+   * @return A new NdkCxxPlatform builder
+   */
+  public static NdkCxxPlatform.Builder builder() {
+    return new NdkCxxPlatform.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link NdkCxxPlatform NdkCxxPlatform}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CXX_PLATFORM = 0x1L;
+    private static final long INIT_BIT_CXX_RUNTIME = 0x2L;
+    private static final long INIT_BIT_OBJDUMP = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable CxxPlatform cxxPlatform;
+    private @Nullable NdkCxxRuntime cxxRuntime;
+    private @Nullable Tool objdump;
+    private @Nullable Path cxxSharedRuntimePath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NdkCxxPlatform} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(NdkCxxPlatform instance) {
+      return from((AbstractNdkCxxPlatform) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractNdkCxxPlatform} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractNdkCxxPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCxxPlatform(instance.getCxxPlatform());
+      setCxxRuntime(instance.getCxxRuntime());
+      setObjdump(instance.getObjdump());
+      Optional<Path> cxxSharedRuntimePathOptional = instance.getCxxSharedRuntimePath();
+      if (cxxSharedRuntimePathOptional.isPresent()) {
+        setCxxSharedRuntimePath(cxxSharedRuntimePathOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractNdkCxxPlatform#getCxxPlatform() cxxPlatform} attribute.
+     * @param cxxPlatform The value for cxxPlatform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxPlatform(CxxPlatform cxxPlatform) {
+      this.cxxPlatform = Objects.requireNonNull(cxxPlatform, "cxxPlatform");
+      initBits &= ~INIT_BIT_CXX_PLATFORM;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNdkCxxPlatform#getCxxRuntime() cxxRuntime} attribute.
+     * @param cxxRuntime The value for cxxRuntime 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxRuntime(NdkCxxRuntime cxxRuntime) {
+      this.cxxRuntime = Objects.requireNonNull(cxxRuntime, "cxxRuntime");
+      initBits &= ~INIT_BIT_CXX_RUNTIME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNdkCxxPlatform#getObjdump() objdump} attribute.
+     * @param objdump The value for objdump 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setObjdump(Tool objdump) {
+      this.objdump = Objects.requireNonNull(objdump, "objdump");
+      initBits &= ~INIT_BIT_OBJDUMP;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractNdkCxxPlatform#getCxxSharedRuntimePath() cxxSharedRuntimePath} to cxxSharedRuntimePath.
+     * @param cxxSharedRuntimePath The value for cxxSharedRuntimePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxSharedRuntimePath(Path cxxSharedRuntimePath) {
+      this.cxxSharedRuntimePath = Objects.requireNonNull(cxxSharedRuntimePath, "cxxSharedRuntimePath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNdkCxxPlatform#getCxxSharedRuntimePath() cxxSharedRuntimePath} to cxxSharedRuntimePath.
+     * @param cxxSharedRuntimePath The value for cxxSharedRuntimePath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxSharedRuntimePath(Optional<? extends Path> cxxSharedRuntimePath) {
+      this.cxxSharedRuntimePath = cxxSharedRuntimePath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link NdkCxxPlatform NdkCxxPlatform}.
+     * @return An immutable instance of NdkCxxPlatform
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NdkCxxPlatform build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new NdkCxxPlatform(cxxPlatform, cxxRuntime, objdump, cxxSharedRuntimePath);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CXX_PLATFORM) != 0) attributes.add("cxxPlatform");
+      if ((initBits & INIT_BIT_CXX_RUNTIME) != 0) attributes.add("cxxRuntime");
+      if ((initBits & INIT_BIT_OBJDUMP) != 0) attributes.add("objdump");
+      return "Cannot build NdkCxxPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,43 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.apple;
+
+public final class AbstractAppleBundleDestinations_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("getMetadataPath()", "getResourcesPath()", "getExecutablesPath()", "getFrameworksPath()", "getPlugInsPath()", "getWatchAppPath()", "getHeadersPath()", "getModulesPath()"));
+
+  @java.lang.Override
+  public java.lang.Class<?> getTargetClass() {
+    return com.facebook.buck.apple.AbstractAppleBundleDestinations.class;
+  }
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        return ((com.facebook.buck.apple.AbstractAppleBundleDestinations) instance).getMetadataPath();
+      case 1:
+        return ((com.facebook.buck.apple.AbstractAppleBundleDestinations) instance).getResourcesPath();
+      case 2:
+        return ((com.facebook.buck.apple.AbstractAppleBundleDestinations) instance).getExecutablesPath();
+      case 3:
+        return ((com.facebook.buck.apple.AbstractAppleBundleDestinations) instance).getFrameworksPath();
+      case 4:
+        return ((com.facebook.buck.apple.AbstractAppleBundleDestinations) instance).getPlugInsPath();
+      case 5:
+        return ((com.facebook.buck.apple.AbstractAppleBundleDestinations) instance).getWatchAppPath();
+      case 6:
+        return ((com.facebook.buck.apple.AbstractAppleBundleDestinations) instance).getHeadersPath();
+      case 7:
+        return ((com.facebook.buck.apple.AbstractAppleBundleDestinations) instance).getModulesPath();
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+}
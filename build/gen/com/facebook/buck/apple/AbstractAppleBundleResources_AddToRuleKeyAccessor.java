@@ -0,0 +1,35 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.apple;
+
+public final class AbstractAppleBundleResources_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("getResourceDirs()", "getDirsContainingResourceDirs()", "getResourceFiles()", "getResourceVariantFiles()"));
+
+  @java.lang.Override
+  public java.lang.Class<?> getTargetClass() {
+    return com.facebook.buck.apple.AbstractAppleBundleResources.class;
+  }
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        return ((com.facebook.buck.apple.AbstractAppleBundleResources) instance).getResourceDirs();
+      case 1:
+        return ((com.facebook.buck.apple.AbstractAppleBundleResources) instance).getDirsContainingResourceDirs();
+      case 2:
+        return ((com.facebook.buck.apple.AbstractAppleBundleResources) instance).getResourceFiles();
+      case 3:
+        return ((com.facebook.buck.apple.AbstractAppleBundleResources) instance).getResourceVariantFiles();
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+}
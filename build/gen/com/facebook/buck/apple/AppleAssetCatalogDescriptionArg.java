@@ -0,0 +1,667 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AppleAssetCatalogDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg"})
+@Immutable
+public final class AppleAssetCatalogDescriptionArg
+    implements AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg {
+  private final ImmutableSortedSet<SourcePath> dirs;
+  private final @Nullable String appIcon;
+  private final @Nullable String launchImage;
+  private final AppleAssetCatalogDescription.Optimization optimization;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+
+  private AppleAssetCatalogDescriptionArg(AppleAssetCatalogDescriptionArg.Builder builder) {
+    this.dirs = builder.dirs.build();
+    this.appIcon = builder.appIcon;
+    this.launchImage = builder.launchImage;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.optimization = builder.optimization != null
+        ? builder.optimization
+        : Objects.requireNonNull(AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg.super.getOptimization(), "optimization");
+  }
+
+  private AppleAssetCatalogDescriptionArg(
+      ImmutableSortedSet<SourcePath> dirs,
+      @Nullable String appIcon,
+      @Nullable String launchImage,
+      AppleAssetCatalogDescription.Optimization optimization,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels) {
+    this.dirs = dirs;
+    this.appIcon = appIcon;
+    this.launchImage = launchImage;
+    this.optimization = optimization;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+  }
+
+  /**
+   * @return The value of the {@code dirs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getDirs() {
+    return dirs;
+  }
+
+  /**
+   * @return The value of the {@code appIcon} attribute
+   */
+  @Override
+  public Optional<String> getAppIcon() {
+    return Optional.ofNullable(appIcon);
+  }
+
+  /**
+   * @return The value of the {@code launchImage} attribute
+   */
+  @Override
+  public Optional<String> getLaunchImage() {
+    return Optional.ofNullable(launchImage);
+  }
+
+  /**
+   * @return The value of the {@code optimization} attribute
+   */
+  @Override
+  public AppleAssetCatalogDescription.Optimization getOptimization() {
+    return optimization;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getDirs() dirs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleAssetCatalogDescriptionArg withDirs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new AppleAssetCatalogDescriptionArg(
+        newValue,
+        this.appIcon,
+        this.launchImage,
+        this.optimization,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getDirs() dirs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of dirs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleAssetCatalogDescriptionArg withDirs(Iterable<? extends SourcePath> elements) {
+    if (this.dirs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new AppleAssetCatalogDescriptionArg(
+        newValue,
+        this.appIcon,
+        this.launchImage,
+        this.optimization,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getAppIcon() appIcon} attribute.
+   * @param value The value for appIcon
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleAssetCatalogDescriptionArg withAppIcon(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "appIcon");
+    if (Objects.equals(this.appIcon, newValue)) return this;
+    return new AppleAssetCatalogDescriptionArg(this.dirs, newValue, this.launchImage, this.optimization, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getAppIcon() appIcon} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for appIcon
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleAssetCatalogDescriptionArg withAppIcon(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.appIcon, value)) return this;
+    return new AppleAssetCatalogDescriptionArg(this.dirs, value, this.launchImage, this.optimization, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLaunchImage() launchImage} attribute.
+   * @param value The value for launchImage
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleAssetCatalogDescriptionArg withLaunchImage(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "launchImage");
+    if (Objects.equals(this.launchImage, newValue)) return this;
+    return new AppleAssetCatalogDescriptionArg(this.dirs, this.appIcon, newValue, this.optimization, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLaunchImage() launchImage} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for launchImage
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleAssetCatalogDescriptionArg withLaunchImage(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.launchImage, value)) return this;
+    return new AppleAssetCatalogDescriptionArg(this.dirs, this.appIcon, value, this.optimization, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getOptimization() optimization} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for optimization
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleAssetCatalogDescriptionArg withOptimization(AppleAssetCatalogDescription.Optimization value) {
+    if (this.optimization == value) return this;
+    AppleAssetCatalogDescription.Optimization newValue = Objects.requireNonNull(value, "optimization");
+    return new AppleAssetCatalogDescriptionArg(this.dirs, this.appIcon, this.launchImage, newValue, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleAssetCatalogDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new AppleAssetCatalogDescriptionArg(
+        this.dirs,
+        this.appIcon,
+        this.launchImage,
+        this.optimization,
+        newValue,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleAssetCatalogDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AppleAssetCatalogDescriptionArg(this.dirs, this.appIcon, this.launchImage, this.optimization, this.name, newValue, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleAssetCatalogDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AppleAssetCatalogDescriptionArg(this.dirs, this.appIcon, this.launchImage, this.optimization, this.name, newValue, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleAssetCatalogDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new AppleAssetCatalogDescriptionArg(
+        this.dirs,
+        this.appIcon,
+        this.launchImage,
+        this.optimization,
+        this.name,
+        this.licenses,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleAssetCatalogDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new AppleAssetCatalogDescriptionArg(
+        this.dirs,
+        this.appIcon,
+        this.launchImage,
+        this.optimization,
+        this.name,
+        this.licenses,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleAssetCatalogDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleAssetCatalogDescriptionArg
+        && equalTo((AppleAssetCatalogDescriptionArg) another);
+  }
+
+  private boolean equalTo(AppleAssetCatalogDescriptionArg another) {
+    return dirs.equals(another.dirs)
+        && Objects.equals(appIcon, another.appIcon)
+        && Objects.equals(launchImage, another.launchImage)
+        && optimization.equals(another.optimization)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code dirs}, {@code appIcon}, {@code launchImage}, {@code optimization}, {@code name}, {@code licenses}, {@code labels}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + dirs.hashCode();
+    h += (h << 5) + Objects.hashCode(appIcon);
+    h += (h << 5) + Objects.hashCode(launchImage);
+    h += (h << 5) + optimization.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleAssetCatalogDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleAssetCatalogDescriptionArg")
+        .omitNullValues()
+        .add("dirs", dirs)
+        .add("appIcon", appIcon)
+        .add("launchImage", launchImage)
+        .add("optimization", optimization)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AppleAssetCatalogDescriptionArg instance
+   */
+  static AppleAssetCatalogDescriptionArg copyOf(AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg instance) {
+    if (instance instanceof AppleAssetCatalogDescriptionArg) {
+      return (AppleAssetCatalogDescriptionArg) instance;
+    }
+    return AppleAssetCatalogDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AppleAssetCatalogDescriptionArg AppleAssetCatalogDescriptionArg}.
+   * @return A new AppleAssetCatalogDescriptionArg builder
+   */
+  public static AppleAssetCatalogDescriptionArg.Builder builder() {
+    return new AppleAssetCatalogDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleAssetCatalogDescriptionArg AppleAssetCatalogDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableSortedSet.Builder<SourcePath> dirs = ImmutableSortedSet.naturalOrder();
+    private @Nullable String appIcon;
+    private @Nullable String launchImage;
+    private @Nullable AppleAssetCatalogDescription.Optimization optimization;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleAssetCatalogDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AppleAssetCatalogDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleAssetCatalogDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg) {
+        AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg instance = (AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg) object;
+        addAllDirs(instance.getDirs());
+        Optional<String> appIconOptional = instance.getAppIcon();
+        if (appIconOptional.isPresent()) {
+          setAppIcon(appIconOptional);
+        }
+        setOptimization(instance.getOptimization());
+        Optional<String> launchImageOptional = instance.getLaunchImage();
+        if (launchImageOptional.isPresent()) {
+          setLaunchImage(launchImageOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Adds one element to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getDirs() dirs} sortedSet.
+     * @param element A dirs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDirs(SourcePath element) {
+      this.dirs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getDirs() dirs} sortedSet.
+     * @param elements An array of dirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDirs(SourcePath... elements) {
+      this.dirs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getDirs() dirs} sortedSet.
+     * @param elements An iterable of dirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDirs(Iterable<? extends SourcePath> elements) {
+      this.dirs = ImmutableSortedSet.naturalOrder();
+      return addAllDirs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getDirs() dirs} sortedSet.
+     * @param elements An iterable of dirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDirs(Iterable<? extends SourcePath> elements) {
+      this.dirs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getAppIcon() appIcon} to appIcon.
+     * @param appIcon The value for appIcon
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAppIcon(String appIcon) {
+      this.appIcon = Objects.requireNonNull(appIcon, "appIcon");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getAppIcon() appIcon} to appIcon.
+     * @param appIcon The value for appIcon
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAppIcon(Optional<String> appIcon) {
+      this.appIcon = appIcon.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLaunchImage() launchImage} to launchImage.
+     * @param launchImage The value for launchImage
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLaunchImage(String launchImage) {
+      this.launchImage = Objects.requireNonNull(launchImage, "launchImage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLaunchImage() launchImage} to launchImage.
+     * @param launchImage The value for launchImage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLaunchImage(Optional<String> launchImage) {
+      this.launchImage = launchImage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getOptimization() optimization} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getOptimization() optimization}.</em>
+     * @param optimization The value for optimization 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOptimization(AppleAssetCatalogDescription.Optimization optimization) {
+      this.optimization = Objects.requireNonNull(optimization, "optimization");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AppleAssetCatalogDescriptionArg AppleAssetCatalogDescriptionArg}.
+     * @return An immutable instance of AppleAssetCatalogDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleAssetCatalogDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AppleAssetCatalogDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AppleAssetCatalogDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,596 @@
+package com.facebook.buck.apple;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAppleBundleDestinations}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AppleBundleDestinations.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code AppleBundleDestinations.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleBundleDestinations"})
+@Immutable
+public final class AppleBundleDestinations extends AbstractAppleBundleDestinations {
+  private final Path metadataPath;
+  private final Path resourcesPath;
+  private final Path executablesPath;
+  private final Path frameworksPath;
+  private final Path plugInsPath;
+  private final Path watchAppPath;
+  private final Path headersPath;
+  private final Path modulesPath;
+
+  private AppleBundleDestinations(
+      Path metadataPath,
+      Path resourcesPath,
+      Path executablesPath,
+      Path frameworksPath,
+      Path plugInsPath,
+      Path watchAppPath,
+      Path headersPath,
+      Path modulesPath) {
+    this.metadataPath = Objects.requireNonNull(metadataPath, "metadataPath");
+    this.resourcesPath = Objects.requireNonNull(resourcesPath, "resourcesPath");
+    this.executablesPath = Objects.requireNonNull(executablesPath, "executablesPath");
+    this.frameworksPath = Objects.requireNonNull(frameworksPath, "frameworksPath");
+    this.plugInsPath = Objects.requireNonNull(plugInsPath, "plugInsPath");
+    this.watchAppPath = Objects.requireNonNull(watchAppPath, "watchAppPath");
+    this.headersPath = Objects.requireNonNull(headersPath, "headersPath");
+    this.modulesPath = Objects.requireNonNull(modulesPath, "modulesPath");
+  }
+
+  private AppleBundleDestinations(
+      AppleBundleDestinations original,
+      Path metadataPath,
+      Path resourcesPath,
+      Path executablesPath,
+      Path frameworksPath,
+      Path plugInsPath,
+      Path watchAppPath,
+      Path headersPath,
+      Path modulesPath) {
+    this.metadataPath = metadataPath;
+    this.resourcesPath = resourcesPath;
+    this.executablesPath = executablesPath;
+    this.frameworksPath = frameworksPath;
+    this.plugInsPath = plugInsPath;
+    this.watchAppPath = watchAppPath;
+    this.headersPath = headersPath;
+    this.modulesPath = modulesPath;
+  }
+
+  /**
+   * @return The value of the {@code metadataPath} attribute
+   */
+  @Override
+  public Path getMetadataPath() {
+    return metadataPath;
+  }
+
+  /**
+   * @return The value of the {@code resourcesPath} attribute
+   */
+  @Override
+  public Path getResourcesPath() {
+    return resourcesPath;
+  }
+
+  /**
+   * @return The value of the {@code executablesPath} attribute
+   */
+  @Override
+  public Path getExecutablesPath() {
+    return executablesPath;
+  }
+
+  /**
+   * @return The value of the {@code frameworksPath} attribute
+   */
+  @Override
+  public Path getFrameworksPath() {
+    return frameworksPath;
+  }
+
+  /**
+   * @return The value of the {@code plugInsPath} attribute
+   */
+  @Override
+  public Path getPlugInsPath() {
+    return plugInsPath;
+  }
+
+  /**
+   * @return The value of the {@code watchAppPath} attribute
+   */
+  @Override
+  public Path getWatchAppPath() {
+    return watchAppPath;
+  }
+
+  /**
+   * @return The value of the {@code headersPath} attribute
+   */
+  @Override
+  public Path getHeadersPath() {
+    return headersPath;
+  }
+
+  /**
+   * @return The value of the {@code modulesPath} attribute
+   */
+  @Override
+  public Path getModulesPath() {
+    return modulesPath;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleBundleDestinations#getMetadataPath() metadataPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for metadataPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBundleDestinations withMetadataPath(Path value) {
+    if (this.metadataPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "metadataPath");
+    return new AppleBundleDestinations(
+        this,
+        newValue,
+        this.resourcesPath,
+        this.executablesPath,
+        this.frameworksPath,
+        this.plugInsPath,
+        this.watchAppPath,
+        this.headersPath,
+        this.modulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleBundleDestinations#getResourcesPath() resourcesPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for resourcesPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBundleDestinations withResourcesPath(Path value) {
+    if (this.resourcesPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "resourcesPath");
+    return new AppleBundleDestinations(
+        this,
+        this.metadataPath,
+        newValue,
+        this.executablesPath,
+        this.frameworksPath,
+        this.plugInsPath,
+        this.watchAppPath,
+        this.headersPath,
+        this.modulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleBundleDestinations#getExecutablesPath() executablesPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for executablesPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBundleDestinations withExecutablesPath(Path value) {
+    if (this.executablesPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "executablesPath");
+    return new AppleBundleDestinations(
+        this,
+        this.metadataPath,
+        this.resourcesPath,
+        newValue,
+        this.frameworksPath,
+        this.plugInsPath,
+        this.watchAppPath,
+        this.headersPath,
+        this.modulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleBundleDestinations#getFrameworksPath() frameworksPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for frameworksPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBundleDestinations withFrameworksPath(Path value) {
+    if (this.frameworksPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "frameworksPath");
+    return new AppleBundleDestinations(
+        this,
+        this.metadataPath,
+        this.resourcesPath,
+        this.executablesPath,
+        newValue,
+        this.plugInsPath,
+        this.watchAppPath,
+        this.headersPath,
+        this.modulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleBundleDestinations#getPlugInsPath() plugInsPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for plugInsPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBundleDestinations withPlugInsPath(Path value) {
+    if (this.plugInsPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "plugInsPath");
+    return new AppleBundleDestinations(
+        this,
+        this.metadataPath,
+        this.resourcesPath,
+        this.executablesPath,
+        this.frameworksPath,
+        newValue,
+        this.watchAppPath,
+        this.headersPath,
+        this.modulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleBundleDestinations#getWatchAppPath() watchAppPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for watchAppPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBundleDestinations withWatchAppPath(Path value) {
+    if (this.watchAppPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "watchAppPath");
+    return new AppleBundleDestinations(
+        this,
+        this.metadataPath,
+        this.resourcesPath,
+        this.executablesPath,
+        this.frameworksPath,
+        this.plugInsPath,
+        newValue,
+        this.headersPath,
+        this.modulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleBundleDestinations#getHeadersPath() headersPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for headersPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBundleDestinations withHeadersPath(Path value) {
+    if (this.headersPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "headersPath");
+    return new AppleBundleDestinations(
+        this,
+        this.metadataPath,
+        this.resourcesPath,
+        this.executablesPath,
+        this.frameworksPath,
+        this.plugInsPath,
+        this.watchAppPath,
+        newValue,
+        this.modulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleBundleDestinations#getModulesPath() modulesPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for modulesPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBundleDestinations withModulesPath(Path value) {
+    if (this.modulesPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "modulesPath");
+    return new AppleBundleDestinations(
+        this,
+        this.metadataPath,
+        this.resourcesPath,
+        this.executablesPath,
+        this.frameworksPath,
+        this.plugInsPath,
+        this.watchAppPath,
+        this.headersPath,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleBundleDestinations} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleBundleDestinations
+        && equalTo((AppleBundleDestinations) another);
+  }
+
+  private boolean equalTo(AppleBundleDestinations another) {
+    return metadataPath.equals(another.metadataPath)
+        && resourcesPath.equals(another.resourcesPath)
+        && executablesPath.equals(another.executablesPath)
+        && frameworksPath.equals(another.frameworksPath)
+        && plugInsPath.equals(another.plugInsPath)
+        && watchAppPath.equals(another.watchAppPath)
+        && headersPath.equals(another.headersPath)
+        && modulesPath.equals(another.modulesPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code metadataPath}, {@code resourcesPath}, {@code executablesPath}, {@code frameworksPath}, {@code plugInsPath}, {@code watchAppPath}, {@code headersPath}, {@code modulesPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + metadataPath.hashCode();
+    h += (h << 5) + resourcesPath.hashCode();
+    h += (h << 5) + executablesPath.hashCode();
+    h += (h << 5) + frameworksPath.hashCode();
+    h += (h << 5) + plugInsPath.hashCode();
+    h += (h << 5) + watchAppPath.hashCode();
+    h += (h << 5) + headersPath.hashCode();
+    h += (h << 5) + modulesPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleBundleDestinations} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleBundleDestinations")
+        .omitNullValues()
+        .add("metadataPath", metadataPath)
+        .add("resourcesPath", resourcesPath)
+        .add("executablesPath", executablesPath)
+        .add("frameworksPath", frameworksPath)
+        .add("plugInsPath", plugInsPath)
+        .add("watchAppPath", watchAppPath)
+        .add("headersPath", headersPath)
+        .add("modulesPath", modulesPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AppleBundleDestinations} instance.
+   * @param metadataPath The value for the {@code metadataPath} attribute
+   * @param resourcesPath The value for the {@code resourcesPath} attribute
+   * @param executablesPath The value for the {@code executablesPath} attribute
+   * @param frameworksPath The value for the {@code frameworksPath} attribute
+   * @param plugInsPath The value for the {@code plugInsPath} attribute
+   * @param watchAppPath The value for the {@code watchAppPath} attribute
+   * @param headersPath The value for the {@code headersPath} attribute
+   * @param modulesPath The value for the {@code modulesPath} attribute
+   * @return An immutable AppleBundleDestinations instance
+   */
+  public static AppleBundleDestinations of(Path metadataPath, Path resourcesPath, Path executablesPath, Path frameworksPath, Path plugInsPath, Path watchAppPath, Path headersPath, Path modulesPath) {
+    return new AppleBundleDestinations(metadataPath, resourcesPath, executablesPath, frameworksPath, plugInsPath, watchAppPath, headersPath, modulesPath);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAppleBundleDestinations} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AppleBundleDestinations instance
+   */
+  static AppleBundleDestinations copyOf(AbstractAppleBundleDestinations instance) {
+    if (instance instanceof AppleBundleDestinations) {
+      return (AppleBundleDestinations) instance;
+    }
+    return AppleBundleDestinations.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AppleBundleDestinations AppleBundleDestinations}.
+   * @return A new AppleBundleDestinations builder
+   */
+  public static AppleBundleDestinations.Builder builder() {
+    return new AppleBundleDestinations.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleBundleDestinations AppleBundleDestinations}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_METADATA_PATH = 0x1L;
+    private static final long INIT_BIT_RESOURCES_PATH = 0x2L;
+    private static final long INIT_BIT_EXECUTABLES_PATH = 0x4L;
+    private static final long INIT_BIT_FRAMEWORKS_PATH = 0x8L;
+    private static final long INIT_BIT_PLUG_INS_PATH = 0x10L;
+    private static final long INIT_BIT_WATCH_APP_PATH = 0x20L;
+    private static final long INIT_BIT_HEADERS_PATH = 0x40L;
+    private static final long INIT_BIT_MODULES_PATH = 0x80L;
+    private long initBits = 0xffL;
+
+    private @Nullable Path metadataPath;
+    private @Nullable Path resourcesPath;
+    private @Nullable Path executablesPath;
+    private @Nullable Path frameworksPath;
+    private @Nullable Path plugInsPath;
+    private @Nullable Path watchAppPath;
+    private @Nullable Path headersPath;
+    private @Nullable Path modulesPath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleBundleDestinations} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AppleBundleDestinations instance) {
+      return from((AbstractAppleBundleDestinations) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleBundleDestinations} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractAppleBundleDestinations instance) {
+      Objects.requireNonNull(instance, "instance");
+      setMetadataPath(instance.getMetadataPath());
+      setResourcesPath(instance.getResourcesPath());
+      setExecutablesPath(instance.getExecutablesPath());
+      setFrameworksPath(instance.getFrameworksPath());
+      setPlugInsPath(instance.getPlugInsPath());
+      setWatchAppPath(instance.getWatchAppPath());
+      setHeadersPath(instance.getHeadersPath());
+      setModulesPath(instance.getModulesPath());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAppleBundleDestinations#getMetadataPath() metadataPath} attribute.
+     * @param metadataPath The value for metadataPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMetadataPath(Path metadataPath) {
+      this.metadataPath = Objects.requireNonNull(metadataPath, "metadataPath");
+      initBits &= ~INIT_BIT_METADATA_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleBundleDestinations#getResourcesPath() resourcesPath} attribute.
+     * @param resourcesPath The value for resourcesPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResourcesPath(Path resourcesPath) {
+      this.resourcesPath = Objects.requireNonNull(resourcesPath, "resourcesPath");
+      initBits &= ~INIT_BIT_RESOURCES_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleBundleDestinations#getExecutablesPath() executablesPath} attribute.
+     * @param executablesPath The value for executablesPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExecutablesPath(Path executablesPath) {
+      this.executablesPath = Objects.requireNonNull(executablesPath, "executablesPath");
+      initBits &= ~INIT_BIT_EXECUTABLES_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleBundleDestinations#getFrameworksPath() frameworksPath} attribute.
+     * @param frameworksPath The value for frameworksPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFrameworksPath(Path frameworksPath) {
+      this.frameworksPath = Objects.requireNonNull(frameworksPath, "frameworksPath");
+      initBits &= ~INIT_BIT_FRAMEWORKS_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleBundleDestinations#getPlugInsPath() plugInsPath} attribute.
+     * @param plugInsPath The value for plugInsPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlugInsPath(Path plugInsPath) {
+      this.plugInsPath = Objects.requireNonNull(plugInsPath, "plugInsPath");
+      initBits &= ~INIT_BIT_PLUG_INS_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleBundleDestinations#getWatchAppPath() watchAppPath} attribute.
+     * @param watchAppPath The value for watchAppPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWatchAppPath(Path watchAppPath) {
+      this.watchAppPath = Objects.requireNonNull(watchAppPath, "watchAppPath");
+      initBits &= ~INIT_BIT_WATCH_APP_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleBundleDestinations#getHeadersPath() headersPath} attribute.
+     * @param headersPath The value for headersPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHeadersPath(Path headersPath) {
+      this.headersPath = Objects.requireNonNull(headersPath, "headersPath");
+      initBits &= ~INIT_BIT_HEADERS_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleBundleDestinations#getModulesPath() modulesPath} attribute.
+     * @param modulesPath The value for modulesPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setModulesPath(Path modulesPath) {
+      this.modulesPath = Objects.requireNonNull(modulesPath, "modulesPath");
+      initBits &= ~INIT_BIT_MODULES_PATH;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link AppleBundleDestinations AppleBundleDestinations}.
+     * @return An immutable instance of AppleBundleDestinations
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleBundleDestinations build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AppleBundleDestinations(
+          null,
+          metadataPath,
+          resourcesPath,
+          executablesPath,
+          frameworksPath,
+          plugInsPath,
+          watchAppPath,
+          headersPath,
+          modulesPath);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_METADATA_PATH) != 0) attributes.add("metadataPath");
+      if ((initBits & INIT_BIT_RESOURCES_PATH) != 0) attributes.add("resourcesPath");
+      if ((initBits & INIT_BIT_EXECUTABLES_PATH) != 0) attributes.add("executablesPath");
+      if ((initBits & INIT_BIT_FRAMEWORKS_PATH) != 0) attributes.add("frameworksPath");
+      if ((initBits & INIT_BIT_PLUG_INS_PATH) != 0) attributes.add("plugInsPath");
+      if ((initBits & INIT_BIT_WATCH_APP_PATH) != 0) attributes.add("watchAppPath");
+      if ((initBits & INIT_BIT_HEADERS_PATH) != 0) attributes.add("headersPath");
+      if ((initBits & INIT_BIT_MODULES_PATH) != 0) attributes.add("modulesPath");
+      return "Cannot build AppleBundleDestinations, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,196 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.apple;
+
+public final class AppleBundle_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.lang.invoke.MethodHandle MEMBER_0 = getter("extension");
+  private static final java.lang.invoke.MethodHandle MEMBER_1 = getter("productName");
+  private static final java.lang.invoke.MethodHandle MEMBER_2 = getter("infoPlist");
+  private static final java.lang.invoke.MethodHandle MEMBER_3 = getter("infoPlistSubstitutions");
+  private static final java.lang.invoke.MethodHandle MEMBER_4 = getter("binary");
+  private static final java.lang.invoke.MethodHandle MEMBER_5 = getter("appleDsym");
+  private static final java.lang.invoke.MethodHandle MEMBER_6 = getter("destinations");
+  private static final java.lang.invoke.MethodHandle MEMBER_7 = getter("resources");
+  private static final java.lang.invoke.MethodHandle MEMBER_8 = getter("frameworks");
+  private static final java.lang.invoke.MethodHandle MEMBER_9 = getter("ibtool");
+  private static final java.lang.invoke.MethodHandle MEMBER_10 = getter("tests");
+  private static final java.lang.invoke.MethodHandle MEMBER_11 = getter("platform");
+  private static final java.lang.invoke.MethodHandle MEMBER_12 = getter("sdkName");
+  private static final java.lang.invoke.MethodHandle MEMBER_13 = getter("sdkVersion");
+  private static final java.lang.invoke.MethodHandle MEMBER_14 = getter("provisioningProfileStore");
+  private static final java.lang.invoke.MethodHandle MEMBER_15 = getter("codeSignIdentityStore");
+  private static final java.lang.invoke.MethodHandle MEMBER_16 = getter("codesignAllocatePath");
+  private static final java.lang.invoke.MethodHandle MEMBER_17 = getter("codesign");
+  private static final java.lang.invoke.MethodHandle MEMBER_18 = getter("swiftStdlibTool");
+  private static final java.lang.invoke.MethodHandle MEMBER_19 = getter("dryRunCodeSigning");
+  private static final java.lang.invoke.MethodHandle MEMBER_20 = getter("codesignFlags");
+  private static final java.lang.invoke.MethodHandle MEMBER_21 = getter("extensionBundlePaths");
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("extension", "productName", "infoPlist", "infoPlistSubstitutions", "binary", "appleDsym", "destinations", "resources", "frameworks", "ibtool", "tests", "platform", "sdkName", "sdkVersion", "provisioningProfileStore", "codeSignIdentityStore", "codesignAllocatePath", "codesign", "swiftStdlibTool", "dryRunCodeSigning", "codesignFlags", "extensionBundlePaths"));
+
+  @java.lang.Override
+  public java.lang.Class<?> getTargetClass() {
+    return com.facebook.buck.apple.AppleBundle.class;
+  }
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        try {
+          return MEMBER_0.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 1:
+        try {
+          return MEMBER_1.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 2:
+        try {
+          return MEMBER_2.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 3:
+        try {
+          return MEMBER_3.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 4:
+        try {
+          return MEMBER_4.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 5:
+        try {
+          return MEMBER_5.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 6:
+        try {
+          return MEMBER_6.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 7:
+        try {
+          return MEMBER_7.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 8:
+        try {
+          return MEMBER_8.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 9:
+        try {
+          return MEMBER_9.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 10:
+        try {
+          return MEMBER_10.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 11:
+        try {
+          return MEMBER_11.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 12:
+        try {
+          return MEMBER_12.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 13:
+        try {
+          return MEMBER_13.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 14:
+        try {
+          return MEMBER_14.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 15:
+        try {
+          return MEMBER_15.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 16:
+        try {
+          return MEMBER_16.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 17:
+        try {
+          return MEMBER_17.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 18:
+        try {
+          return MEMBER_18.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 19:
+        try {
+          return MEMBER_19.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 20:
+        try {
+          return MEMBER_20.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 21:
+        try {
+          return MEMBER_21.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+
+  private static java.lang.invoke.MethodHandle getter(java.lang.String name) {
+    try {
+      java.lang.reflect.Field field = com.facebook.buck.apple.AppleBundle.class.getDeclaredField(name);
+      field.setAccessible(true);
+      return java.lang.invoke.MethodHandles.lookup()
+          .unreflectGetter(field)
+          .asType(
+              java.lang.invoke.MethodType.methodType(
+                  java.lang.Object.class, java.lang.Object.class));
+    } catch (java.lang.ReflectiveOperationException e) {
+      throw new java.lang.IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,415 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ApplePackageDescription.AbstractApplePackageDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ApplePackageDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ApplePackageDescription.AbstractApplePackageDescriptionArg"})
+@Immutable
+public final class ApplePackageDescriptionArg
+    implements ApplePackageDescription.AbstractApplePackageDescriptionArg {
+  private final BuildTarget bundle;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+
+  private ApplePackageDescriptionArg(
+      BuildTarget bundle,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels) {
+    this.bundle = bundle;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+  }
+
+  /**
+   * @return The value of the {@code bundle} attribute
+   */
+  @Override
+  public BuildTarget getBundle() {
+    return bundle;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ApplePackageDescription.AbstractApplePackageDescriptionArg#getBundle() bundle} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for bundle
+   * @return A modified copy of the {@code this} object
+   */
+  public final ApplePackageDescriptionArg withBundle(BuildTarget value) {
+    if (this.bundle == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "bundle");
+    return new ApplePackageDescriptionArg(newValue, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ApplePackageDescription.AbstractApplePackageDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final ApplePackageDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new ApplePackageDescriptionArg(this.bundle, newValue, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ApplePackageDescription.AbstractApplePackageDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ApplePackageDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new ApplePackageDescriptionArg(this.bundle, this.name, newValue, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ApplePackageDescription.AbstractApplePackageDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ApplePackageDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new ApplePackageDescriptionArg(this.bundle, this.name, newValue, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ApplePackageDescription.AbstractApplePackageDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ApplePackageDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new ApplePackageDescriptionArg(this.bundle, this.name, this.licenses, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ApplePackageDescription.AbstractApplePackageDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ApplePackageDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new ApplePackageDescriptionArg(this.bundle, this.name, this.licenses, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ApplePackageDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ApplePackageDescriptionArg
+        && equalTo((ApplePackageDescriptionArg) another);
+  }
+
+  private boolean equalTo(ApplePackageDescriptionArg another) {
+    return bundle.equals(another.bundle)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code bundle}, {@code name}, {@code licenses}, {@code labels}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + bundle.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ApplePackageDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ApplePackageDescriptionArg")
+        .omitNullValues()
+        .add("bundle", bundle)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ApplePackageDescription.AbstractApplePackageDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ApplePackageDescriptionArg instance
+   */
+  static ApplePackageDescriptionArg copyOf(ApplePackageDescription.AbstractApplePackageDescriptionArg instance) {
+    if (instance instanceof ApplePackageDescriptionArg) {
+      return (ApplePackageDescriptionArg) instance;
+    }
+    return ApplePackageDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ApplePackageDescriptionArg ApplePackageDescriptionArg}.
+   * @return A new ApplePackageDescriptionArg builder
+   */
+  public static ApplePackageDescriptionArg.Builder builder() {
+    return new ApplePackageDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ApplePackageDescriptionArg ApplePackageDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BUNDLE = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable BuildTarget bundle;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ApplePackageDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ApplePackageDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractApplePackageDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ApplePackageDescription.AbstractApplePackageDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof ApplePackageDescription.AbstractApplePackageDescriptionArg) {
+        ApplePackageDescription.AbstractApplePackageDescriptionArg instance = (ApplePackageDescription.AbstractApplePackageDescriptionArg) object;
+        setBundle(instance.getBundle());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link ApplePackageDescription.AbstractApplePackageDescriptionArg#getBundle() bundle} attribute.
+     * @param bundle The value for bundle 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBundle(BuildTarget bundle) {
+      this.bundle = Objects.requireNonNull(bundle, "bundle");
+      initBits &= ~INIT_BIT_BUNDLE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link ApplePackageDescription.AbstractApplePackageDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link ApplePackageDescription.AbstractApplePackageDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ApplePackageDescription.AbstractApplePackageDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ApplePackageDescription.AbstractApplePackageDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link ApplePackageDescription.AbstractApplePackageDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ApplePackageDescription.AbstractApplePackageDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ApplePackageDescription.AbstractApplePackageDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ApplePackageDescription.AbstractApplePackageDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link ApplePackageDescription.AbstractApplePackageDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ApplePackageDescriptionArg ApplePackageDescriptionArg}.
+     * @return An immutable instance of ApplePackageDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ApplePackageDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ApplePackageDescriptionArg(bundle, name, licenses.build(), labels.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_BUNDLE) != 0) attributes.add("bundle");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build ApplePackageDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,245 @@
+package com.facebook.buck.apple;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Represents a identity used in code signing. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCodeSignIdentity"})
+@Immutable
+public final class CodeSignIdentity extends AbstractCodeSignIdentity {
+  private final @Nullable HashCode fingerprint;
+  private final String subjectCommonName;
+
+  private CodeSignIdentity(
+      @Nullable HashCode fingerprint,
+      String subjectCommonName) {
+    this.fingerprint = fingerprint;
+    this.subjectCommonName = subjectCommonName;
+  }
+
+  /**
+   * Returns the identity's certificate hash, defined to be unique for each identity.
+   * <p>If absent, this identity represents an ad-hoc signing identity.
+   */
+  @Override
+  public Optional<HashCode> getFingerprint() {
+    return Optional.ofNullable(fingerprint);
+  }
+
+  /**
+   * Returns the full name of the identity. e.g. "iPhone Developer: John Doe (ABCDE12345)"
+   * <p>Not guaranteed to be unique.
+   */
+  @Override
+  public String getSubjectCommonName() {
+    return subjectCommonName;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCodeSignIdentity#getFingerprint() fingerprint} attribute.
+   * @param value The value for fingerprint
+   * @return A modified copy of {@code this} object
+   */
+  public final CodeSignIdentity withFingerprint(HashCode value) {
+    @Nullable HashCode newValue = Objects.requireNonNull(value, "fingerprint");
+    if (this.fingerprint == newValue) return this;
+    return new CodeSignIdentity(newValue, this.subjectCommonName);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCodeSignIdentity#getFingerprint() fingerprint} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for fingerprint
+   * @return A modified copy of {@code this} object
+   */
+  public final CodeSignIdentity withFingerprint(Optional<? extends HashCode> optional) {
+    @Nullable HashCode value = optional.orElse(null);
+    if (this.fingerprint == value) return this;
+    return new CodeSignIdentity(value, this.subjectCommonName);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCodeSignIdentity#getSubjectCommonName() subjectCommonName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for subjectCommonName
+   * @return A modified copy of the {@code this} object
+   */
+  public final CodeSignIdentity withSubjectCommonName(String value) {
+    if (this.subjectCommonName.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "subjectCommonName");
+    return new CodeSignIdentity(this.fingerprint, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CodeSignIdentity} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CodeSignIdentity
+        && equalTo((CodeSignIdentity) another);
+  }
+
+  private boolean equalTo(CodeSignIdentity another) {
+    return Objects.equals(fingerprint, another.fingerprint)
+        && subjectCommonName.equals(another.subjectCommonName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code fingerprint}, {@code subjectCommonName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(fingerprint);
+    h += (h << 5) + subjectCommonName.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CodeSignIdentity} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CodeSignIdentity")
+        .omitNullValues()
+        .add("fingerprint", fingerprint)
+        .add("subjectCommonName", subjectCommonName)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCodeSignIdentity} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CodeSignIdentity instance
+   */
+  static CodeSignIdentity copyOf(AbstractCodeSignIdentity instance) {
+    if (instance instanceof CodeSignIdentity) {
+      return (CodeSignIdentity) instance;
+    }
+    return CodeSignIdentity.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CodeSignIdentity CodeSignIdentity}.
+   * @return A new CodeSignIdentity builder
+   */
+  public static CodeSignIdentity.Builder builder() {
+    return new CodeSignIdentity.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CodeSignIdentity CodeSignIdentity}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SUBJECT_COMMON_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable HashCode fingerprint;
+    private @Nullable String subjectCommonName;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CodeSignIdentity} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CodeSignIdentity instance) {
+      return from((AbstractCodeSignIdentity) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCodeSignIdentity} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractCodeSignIdentity instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<HashCode> fingerprintOptional = instance.getFingerprint();
+      if (fingerprintOptional.isPresent()) {
+        setFingerprint(fingerprintOptional);
+      }
+      setSubjectCommonName(instance.getSubjectCommonName());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCodeSignIdentity#getFingerprint() fingerprint} to fingerprint.
+     * @param fingerprint The value for fingerprint
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFingerprint(HashCode fingerprint) {
+      this.fingerprint = Objects.requireNonNull(fingerprint, "fingerprint");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCodeSignIdentity#getFingerprint() fingerprint} to fingerprint.
+     * @param fingerprint The value for fingerprint
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFingerprint(Optional<? extends HashCode> fingerprint) {
+      this.fingerprint = fingerprint.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCodeSignIdentity#getSubjectCommonName() subjectCommonName} attribute.
+     * @param subjectCommonName The value for subjectCommonName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSubjectCommonName(String subjectCommonName) {
+      this.subjectCommonName = Objects.requireNonNull(subjectCommonName, "subjectCommonName");
+      initBits &= ~INIT_BIT_SUBJECT_COMMON_NAME;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link CodeSignIdentity CodeSignIdentity}.
+     * @return An immutable instance of CodeSignIdentity
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CodeSignIdentity build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CodeSignIdentity(fingerprint, subjectCommonName);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SUBJECT_COMMON_NAME) != 0) attributes.add("subjectCommonName");
+      return "Cannot build CodeSignIdentity, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,308 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.apple.toolchain.AppleCxxPlatform;
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Information about a build target that represents a fat binary.
+ * <p>Fat binaries are represented by build targets having multiple platform flavors.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractMultiarchFileInfo"})
+@Immutable
+public final class MultiarchFileInfo extends AbstractMultiarchFileInfo {
+  private final BuildTarget fatTarget;
+  private final ImmutableList<BuildTarget> thinTargets;
+  private final AppleCxxPlatform representativePlatform;
+
+  private MultiarchFileInfo(
+      BuildTarget fatTarget,
+      ImmutableList<BuildTarget> thinTargets,
+      AppleCxxPlatform representativePlatform) {
+    this.fatTarget = fatTarget;
+    this.thinTargets = thinTargets;
+    this.representativePlatform = representativePlatform;
+  }
+
+  /**
+   * @return The value of the {@code fatTarget} attribute
+   */
+  @Override
+  public BuildTarget getFatTarget() {
+    return fatTarget;
+  }
+
+  /**
+   * @return The value of the {@code thinTargets} attribute
+   */
+  @Override
+  public ImmutableList<BuildTarget> getThinTargets() {
+    return thinTargets;
+  }
+
+  /**
+   * Returns a representative platform for use in retrieving architecture agnostic tools.
+   * <p>Platforms are architecture specific, but some tools are architecture agnostic. Since there
+   * isn't a concept of target architecture agnostic tools, this simply returns one of the
+   * platforms, trusting the caller to only use the architecture agnostic tools.
+   */
+  @Override
+  public AppleCxxPlatform getRepresentativePlatform() {
+    return representativePlatform;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractMultiarchFileInfo#getFatTarget() fatTarget} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fatTarget
+   * @return A modified copy of the {@code this} object
+   */
+  public final MultiarchFileInfo withFatTarget(BuildTarget value) {
+    if (this.fatTarget == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "fatTarget");
+    return new MultiarchFileInfo(newValue, this.thinTargets, this.representativePlatform);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractMultiarchFileInfo#getThinTargets() thinTargets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final MultiarchFileInfo withThinTargets(BuildTarget... elements) {
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new MultiarchFileInfo(this.fatTarget, newValue, this.representativePlatform);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractMultiarchFileInfo#getThinTargets() thinTargets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of thinTargets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final MultiarchFileInfo withThinTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.thinTargets == elements) return this;
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new MultiarchFileInfo(this.fatTarget, newValue, this.representativePlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractMultiarchFileInfo#getRepresentativePlatform() representativePlatform} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for representativePlatform
+   * @return A modified copy of the {@code this} object
+   */
+  public final MultiarchFileInfo withRepresentativePlatform(AppleCxxPlatform value) {
+    if (this.representativePlatform == value) return this;
+    AppleCxxPlatform newValue = Objects.requireNonNull(value, "representativePlatform");
+    return new MultiarchFileInfo(this.fatTarget, this.thinTargets, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code MultiarchFileInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof MultiarchFileInfo
+        && equalTo((MultiarchFileInfo) another);
+  }
+
+  private boolean equalTo(MultiarchFileInfo another) {
+    return fatTarget.equals(another.fatTarget)
+        && thinTargets.equals(another.thinTargets)
+        && representativePlatform.equals(another.representativePlatform);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code fatTarget}, {@code thinTargets}, {@code representativePlatform}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + fatTarget.hashCode();
+    h += (h << 5) + thinTargets.hashCode();
+    h += (h << 5) + representativePlatform.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MultiarchFileInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MultiarchFileInfo")
+        .omitNullValues()
+        .add("fatTarget", fatTarget)
+        .add("thinTargets", thinTargets)
+        .add("representativePlatform", representativePlatform)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractMultiarchFileInfo} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable MultiarchFileInfo instance
+   */
+  static MultiarchFileInfo copyOf(AbstractMultiarchFileInfo instance) {
+    if (instance instanceof MultiarchFileInfo) {
+      return (MultiarchFileInfo) instance;
+    }
+    return MultiarchFileInfo.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link MultiarchFileInfo MultiarchFileInfo}.
+   * @return A new MultiarchFileInfo builder
+   */
+  public static MultiarchFileInfo.Builder builder() {
+    return new MultiarchFileInfo.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link MultiarchFileInfo MultiarchFileInfo}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_FAT_TARGET = 0x1L;
+    private static final long INIT_BIT_REPRESENTATIVE_PLATFORM = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable BuildTarget fatTarget;
+    private ImmutableList.Builder<BuildTarget> thinTargets = ImmutableList.builder();
+    private @Nullable AppleCxxPlatform representativePlatform;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code MultiarchFileInfo} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(MultiarchFileInfo instance) {
+      return from((AbstractMultiarchFileInfo) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractMultiarchFileInfo} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractMultiarchFileInfo instance) {
+      Objects.requireNonNull(instance, "instance");
+      setFatTarget(instance.getFatTarget());
+      addAllThinTargets(instance.getThinTargets());
+      setRepresentativePlatform(instance.getRepresentativePlatform());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractMultiarchFileInfo#getFatTarget() fatTarget} attribute.
+     * @param fatTarget The value for fatTarget 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFatTarget(BuildTarget fatTarget) {
+      this.fatTarget = Objects.requireNonNull(fatTarget, "fatTarget");
+      initBits &= ~INIT_BIT_FAT_TARGET;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractMultiarchFileInfo#getThinTargets() thinTargets} list.
+     * @param element A thinTargets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addThinTargets(BuildTarget element) {
+      this.thinTargets.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractMultiarchFileInfo#getThinTargets() thinTargets} list.
+     * @param elements An array of thinTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addThinTargets(BuildTarget... elements) {
+      this.thinTargets.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractMultiarchFileInfo#getThinTargets() thinTargets} list.
+     * @param elements An iterable of thinTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setThinTargets(Iterable<? extends BuildTarget> elements) {
+      this.thinTargets = ImmutableList.builder();
+      return addAllThinTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractMultiarchFileInfo#getThinTargets() thinTargets} list.
+     * @param elements An iterable of thinTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllThinTargets(Iterable<? extends BuildTarget> elements) {
+      this.thinTargets.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractMultiarchFileInfo#getRepresentativePlatform() representativePlatform} attribute.
+     * @param representativePlatform The value for representativePlatform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRepresentativePlatform(AppleCxxPlatform representativePlatform) {
+      this.representativePlatform = Objects.requireNonNull(representativePlatform, "representativePlatform");
+      initBits &= ~INIT_BIT_REPRESENTATIVE_PLATFORM;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link MultiarchFileInfo MultiarchFileInfo}.
+     * @return An immutable instance of MultiarchFileInfo
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public MultiarchFileInfo build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new MultiarchFileInfo(fatTarget, thinTargets.build(), representativePlatform);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_FAT_TARGET) != 0) attributes.add("fatTarget");
+      if ((initBits & INIT_BIT_REPRESENTATIVE_PLATFORM) != 0) attributes.add("representativePlatform");
+      return "Cannot build MultiarchFileInfo, some of required attributes are not set " + attributes;
+    }
+  }
+}
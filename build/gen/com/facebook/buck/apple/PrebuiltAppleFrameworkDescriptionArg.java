@@ -0,0 +1,1137 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.cxx.toolchain.HasSystemFrameworkAndLibraries;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PrebuiltAppleFrameworkDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg"})
+@Immutable
+public final class PrebuiltAppleFrameworkDescriptionArg
+    implements PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg {
+  private final SourcePath framework;
+  private final @Nullable Pattern supportedPlatformsRegex;
+  private final ImmutableList<String> exportedLinkerFlags;
+  private final PatternMatchedCollection<ImmutableList<String>> exportedPlatformLinkerFlags;
+  private final NativeLinkable.Linkage preferredLinkage;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<FrameworkPath> frameworks;
+  private final ImmutableSortedSet<FrameworkPath> libraries;
+
+  private PrebuiltAppleFrameworkDescriptionArg(PrebuiltAppleFrameworkDescriptionArg.Builder builder) {
+    this.framework = builder.framework;
+    this.supportedPlatformsRegex = builder.supportedPlatformsRegex;
+    this.exportedLinkerFlags = builder.exportedLinkerFlags.build();
+    this.preferredLinkage = builder.preferredLinkage;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.frameworks = builder.frameworks.build();
+    this.libraries = builder.libraries.build();
+    this.exportedPlatformLinkerFlags = builder.exportedPlatformLinkerFlags != null
+        ? builder.exportedPlatformLinkerFlags
+        : Objects.requireNonNull(PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg.super.getExportedPlatformLinkerFlags(), "exportedPlatformLinkerFlags");
+  }
+
+  private PrebuiltAppleFrameworkDescriptionArg(
+      SourcePath framework,
+      @Nullable Pattern supportedPlatformsRegex,
+      ImmutableList<String> exportedLinkerFlags,
+      PatternMatchedCollection<ImmutableList<String>> exportedPlatformLinkerFlags,
+      NativeLinkable.Linkage preferredLinkage,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<FrameworkPath> frameworks,
+      ImmutableSortedSet<FrameworkPath> libraries) {
+    this.framework = framework;
+    this.supportedPlatformsRegex = supportedPlatformsRegex;
+    this.exportedLinkerFlags = exportedLinkerFlags;
+    this.exportedPlatformLinkerFlags = exportedPlatformLinkerFlags;
+    this.preferredLinkage = preferredLinkage;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.frameworks = frameworks;
+    this.libraries = libraries;
+  }
+
+  /**
+   * @return The value of the {@code framework} attribute
+   */
+  @Override
+  public SourcePath getFramework() {
+    return framework;
+  }
+
+  /**
+   * @return The value of the {@code supportedPlatformsRegex} attribute
+   */
+  @Override
+  public Optional<Pattern> getSupportedPlatformsRegex() {
+    return Optional.ofNullable(supportedPlatformsRegex);
+  }
+
+  /**
+   * @return The value of the {@code exportedLinkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getExportedLinkerFlags() {
+    return exportedLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedPlatformLinkerFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<String>> getExportedPlatformLinkerFlags() {
+    return exportedPlatformLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code preferredLinkage} attribute
+   */
+  @Override
+  public NativeLinkable.Linkage getPreferredLinkage() {
+    return preferredLinkage;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code frameworks} attribute
+   */
+  @Override
+  public ImmutableSortedSet<FrameworkPath> getFrameworks() {
+    return frameworks;
+  }
+
+  /**
+   * @return The value of the {@code libraries} attribute
+   */
+  @Override
+  public ImmutableSortedSet<FrameworkPath> getLibraries() {
+    return libraries;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getFramework() framework} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for framework
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withFramework(SourcePath value) {
+    if (this.framework == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "framework");
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        newValue,
+        this.supportedPlatformsRegex,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.frameworks,
+        this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} attribute.
+   * @param value The value for supportedPlatformsRegex
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withSupportedPlatformsRegex(Pattern value) {
+    @Nullable Pattern newValue = Objects.requireNonNull(value, "supportedPlatformsRegex");
+    if (this.supportedPlatformsRegex == newValue) return this;
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        this.framework,
+        newValue,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.frameworks,
+        this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for supportedPlatformsRegex
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withSupportedPlatformsRegex(Optional<? extends Pattern> optional) {
+    @Nullable Pattern value = optional.orElse(null);
+    if (this.supportedPlatformsRegex == value) return this;
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        this.framework,
+        value,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.frameworks,
+        this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withExportedLinkerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        this.framework,
+        this.supportedPlatformsRegex,
+        newValue,
+        this.exportedPlatformLinkerFlags,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.frameworks,
+        this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedLinkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withExportedLinkerFlags(Iterable<String> elements) {
+    if (this.exportedLinkerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        this.framework,
+        this.supportedPlatformsRegex,
+        newValue,
+        this.exportedPlatformLinkerFlags,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.frameworks,
+        this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getExportedPlatformLinkerFlags() exportedPlatformLinkerFlags} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for exportedPlatformLinkerFlags
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withExportedPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<String>> value) {
+    if (this.exportedPlatformLinkerFlags == value) return this;
+    PatternMatchedCollection<ImmutableList<String>> newValue = Objects.requireNonNull(value, "exportedPlatformLinkerFlags");
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        this.framework,
+        this.supportedPlatformsRegex,
+        this.exportedLinkerFlags,
+        newValue,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.frameworks,
+        this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getPreferredLinkage() preferredLinkage} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for preferredLinkage
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withPreferredLinkage(NativeLinkable.Linkage value) {
+    if (this.preferredLinkage == value) return this;
+    NativeLinkable.Linkage newValue = Objects.requireNonNull(value, "preferredLinkage");
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        this.framework,
+        this.supportedPlatformsRegex,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.frameworks,
+        this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        this.framework,
+        this.supportedPlatformsRegex,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.preferredLinkage,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.frameworks,
+        this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        this.framework,
+        this.supportedPlatformsRegex,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.preferredLinkage,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.frameworks,
+        this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        this.framework,
+        this.supportedPlatformsRegex,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.preferredLinkage,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.frameworks,
+        this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        this.framework,
+        this.supportedPlatformsRegex,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.frameworks,
+        this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        this.framework,
+        this.supportedPlatformsRegex,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.frameworks,
+        this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        this.framework,
+        this.supportedPlatformsRegex,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.frameworks,
+        this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        this.framework,
+        this.supportedPlatformsRegex,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.frameworks,
+        this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getFrameworks() frameworks}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withFrameworks(FrameworkPath... elements) {
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        this.framework,
+        this.supportedPlatformsRegex,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue,
+        this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getFrameworks() frameworks}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of frameworks elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withFrameworks(Iterable<? extends FrameworkPath> elements) {
+    if (this.frameworks == elements) return this;
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        elements);
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        this.framework,
+        this.supportedPlatformsRegex,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue,
+        this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLibraries() libraries}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withLibraries(FrameworkPath... elements) {
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        this.framework,
+        this.supportedPlatformsRegex,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.frameworks,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLibraries() libraries}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of libraries elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltAppleFrameworkDescriptionArg withLibraries(Iterable<? extends FrameworkPath> elements) {
+    if (this.libraries == elements) return this;
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        elements);
+    return new PrebuiltAppleFrameworkDescriptionArg(
+        this.framework,
+        this.supportedPlatformsRegex,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.frameworks,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PrebuiltAppleFrameworkDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PrebuiltAppleFrameworkDescriptionArg
+        && equalTo((PrebuiltAppleFrameworkDescriptionArg) another);
+  }
+
+  private boolean equalTo(PrebuiltAppleFrameworkDescriptionArg another) {
+    return framework.equals(another.framework)
+        && Objects.equals(supportedPlatformsRegex, another.supportedPlatformsRegex)
+        && exportedLinkerFlags.equals(another.exportedLinkerFlags)
+        && exportedPlatformLinkerFlags.equals(another.exportedPlatformLinkerFlags)
+        && preferredLinkage.equals(another.preferredLinkage)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && frameworks.equals(another.frameworks)
+        && libraries.equals(another.libraries);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code framework}, {@code supportedPlatformsRegex}, {@code exportedLinkerFlags}, {@code exportedPlatformLinkerFlags}, {@code preferredLinkage}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code frameworks}, {@code libraries}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + framework.hashCode();
+    h += (h << 5) + Objects.hashCode(supportedPlatformsRegex);
+    h += (h << 5) + exportedLinkerFlags.hashCode();
+    h += (h << 5) + exportedPlatformLinkerFlags.hashCode();
+    h += (h << 5) + preferredLinkage.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + frameworks.hashCode();
+    h += (h << 5) + libraries.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PrebuiltAppleFrameworkDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PrebuiltAppleFrameworkDescriptionArg")
+        .omitNullValues()
+        .add("framework", framework)
+        .add("supportedPlatformsRegex", supportedPlatformsRegex)
+        .add("exportedLinkerFlags", exportedLinkerFlags)
+        .add("exportedPlatformLinkerFlags", exportedPlatformLinkerFlags)
+        .add("preferredLinkage", preferredLinkage)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("frameworks", frameworks)
+        .add("libraries", libraries)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PrebuiltAppleFrameworkDescriptionArg instance
+   */
+  static PrebuiltAppleFrameworkDescriptionArg copyOf(PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg instance) {
+    if (instance instanceof PrebuiltAppleFrameworkDescriptionArg) {
+      return (PrebuiltAppleFrameworkDescriptionArg) instance;
+    }
+    return PrebuiltAppleFrameworkDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PrebuiltAppleFrameworkDescriptionArg PrebuiltAppleFrameworkDescriptionArg}.
+   * @return A new PrebuiltAppleFrameworkDescriptionArg builder
+   */
+  public static PrebuiltAppleFrameworkDescriptionArg.Builder builder() {
+    return new PrebuiltAppleFrameworkDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PrebuiltAppleFrameworkDescriptionArg PrebuiltAppleFrameworkDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_FRAMEWORK = 0x1L;
+    private static final long INIT_BIT_PREFERRED_LINKAGE = 0x2L;
+    private static final long INIT_BIT_NAME = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable SourcePath framework;
+    private @Nullable Pattern supportedPlatformsRegex;
+    private ImmutableList.Builder<String> exportedLinkerFlags = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<String>> exportedPlatformLinkerFlags;
+    private @Nullable NativeLinkable.Linkage preferredLinkage;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<FrameworkPath> frameworks = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<FrameworkPath> libraries = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.toolchain.HasSystemFrameworkAndLibraries} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasSystemFrameworkAndLibraries instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PrebuiltAppleFrameworkDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PrebuiltAppleFrameworkDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPrebuiltAppleFrameworkDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasSystemFrameworkAndLibraries) {
+        HasSystemFrameworkAndLibraries instance = (HasSystemFrameworkAndLibraries) object;
+        addAllLibraries(instance.getLibraries());
+        addAllFrameworks(instance.getFrameworks());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg) {
+        PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg instance = (PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg) object;
+        Optional<Pattern> supportedPlatformsRegexOptional = instance.getSupportedPlatformsRegex();
+        if (supportedPlatformsRegexOptional.isPresent()) {
+          setSupportedPlatformsRegex(supportedPlatformsRegexOptional);
+        }
+        setExportedPlatformLinkerFlags(instance.getExportedPlatformLinkerFlags());
+        setFramework(instance.getFramework());
+        setPreferredLinkage(instance.getPreferredLinkage());
+        addAllExportedLinkerFlags(instance.getExportedLinkerFlags());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getFramework() framework} attribute.
+     * @param framework The value for framework 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFramework(SourcePath framework) {
+      this.framework = Objects.requireNonNull(framework, "framework");
+      initBits &= ~INIT_BIT_FRAMEWORK;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} to supportedPlatformsRegex.
+     * @param supportedPlatformsRegex The value for supportedPlatformsRegex
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSupportedPlatformsRegex(Pattern supportedPlatformsRegex) {
+      this.supportedPlatformsRegex = Objects.requireNonNull(supportedPlatformsRegex, "supportedPlatformsRegex");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} to supportedPlatformsRegex.
+     * @param supportedPlatformsRegex The value for supportedPlatformsRegex
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSupportedPlatformsRegex(Optional<? extends Pattern> supportedPlatformsRegex) {
+      this.supportedPlatformsRegex = supportedPlatformsRegex.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param element A exportedLinkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedLinkerFlags(String element) {
+      this.exportedLinkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An array of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedLinkerFlags(String... elements) {
+      this.exportedLinkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An iterable of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedLinkerFlags(Iterable<String> elements) {
+      this.exportedLinkerFlags = ImmutableList.builder();
+      return addAllExportedLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An iterable of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExportedLinkerFlags(Iterable<String> elements) {
+      this.exportedLinkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getExportedPlatformLinkerFlags() exportedPlatformLinkerFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getExportedPlatformLinkerFlags() exportedPlatformLinkerFlags}.</em>
+     * @param exportedPlatformLinkerFlags The value for exportedPlatformLinkerFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<String>> exportedPlatformLinkerFlags) {
+      this.exportedPlatformLinkerFlags = Objects.requireNonNull(exportedPlatformLinkerFlags, "exportedPlatformLinkerFlags");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getPreferredLinkage() preferredLinkage} attribute.
+     * @param preferredLinkage The value for preferredLinkage 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPreferredLinkage(NativeLinkable.Linkage preferredLinkage) {
+      this.preferredLinkage = Objects.requireNonNull(preferredLinkage, "preferredLinkage");
+      initBits &= ~INIT_BIT_PREFERRED_LINKAGE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param element A frameworks element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFrameworks(FrameworkPath element) {
+      this.frameworks.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An array of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFrameworks(FrameworkPath... elements) {
+      this.frameworks.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks = ImmutableSortedSet.naturalOrder();
+      return addAllFrameworks(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param element A libraries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLibraries(FrameworkPath element) {
+      this.libraries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An array of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLibraries(FrameworkPath... elements) {
+      this.libraries.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries = ImmutableSortedSet.naturalOrder();
+      return addAllLibraries(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltAppleFrameworkDescription.AbstractPrebuiltAppleFrameworkDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PrebuiltAppleFrameworkDescriptionArg PrebuiltAppleFrameworkDescriptionArg}.
+     * @return An immutable instance of PrebuiltAppleFrameworkDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PrebuiltAppleFrameworkDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PrebuiltAppleFrameworkDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_FRAMEWORK) != 0) attributes.add("framework");
+      if ((initBits & INIT_BIT_PREFERRED_LINKAGE) != 0) attributes.add("preferredLinkage");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build PrebuiltAppleFrameworkDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,629 @@
+package com.facebook.buck.apple;
+
+import com.dd.plist.NSObject;
+import com.facebook.buck.model.Pair;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Metadata contained in a provisioning profile (.mobileprovision). 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractProvisioningProfileMetadata"})
+@Immutable
+public final class ProvisioningProfileMetadata
+    extends AbstractProvisioningProfileMetadata {
+  private final Pair<String, String> appID;
+  private final Date expirationDate;
+  private final String uUID;
+  private final Path profilePath;
+  private final ImmutableList<String> platforms;
+  private final ImmutableMap<String, NSObject> entitlements;
+  private final ImmutableSet<HashCode> developerCertificateFingerprints;
+
+  private ProvisioningProfileMetadata(ProvisioningProfileMetadata.Builder builder) {
+    this.appID = builder.appID;
+    this.expirationDate = builder.expirationDate;
+    this.uUID = builder.uUID;
+    this.profilePath = builder.profilePath;
+    this.entitlements = builder.entitlements.build();
+    this.developerCertificateFingerprints = builder.developerCertificateFingerprints.build();
+    this.platforms = builder.platformsIsSet()
+        ? builder.platforms.build()
+        : Objects.requireNonNull(super.getPlatforms(), "platforms");
+  }
+
+  private ProvisioningProfileMetadata(
+      Pair<String, String> appID,
+      Date expirationDate,
+      String uUID,
+      Path profilePath,
+      ImmutableList<String> platforms,
+      ImmutableMap<String, NSObject> entitlements,
+      ImmutableSet<HashCode> developerCertificateFingerprints) {
+    this.appID = appID;
+    this.expirationDate = expirationDate;
+    this.uUID = uUID;
+    this.profilePath = profilePath;
+    this.platforms = platforms;
+    this.entitlements = entitlements;
+    this.developerCertificateFingerprints = developerCertificateFingerprints;
+  }
+
+  /**
+   * Returns a (prefix, identifier) pair for which the profile is valid.
+   * <p>e.g. (ABCDE12345, com.example.TestApp) or (ABCDE12345, *)
+   */
+  @Override
+  public Pair<String, String> getAppID() {
+    return appID;
+  }
+
+  /**
+   * @return The value of the {@code expirationDate} attribute
+   */
+  @Override
+  public Date getExpirationDate() {
+    return expirationDate;
+  }
+
+  /**
+   * @return The value of the {@code uUID} attribute
+   */
+  @Override
+  public String getUUID() {
+    return uUID;
+  }
+
+  /**
+   * @return The value of the {@code profilePath} attribute
+   */
+  @Override
+  public Path getProfilePath() {
+    return profilePath;
+  }
+
+  /**
+   *The set of platforms the profile is valid for. 
+   */
+  @Override
+  public ImmutableList<String> getPlatforms() {
+    return platforms;
+  }
+
+  /**
+   *Key/value pairs of the "Entitlements" dictionary in the embedded plist. 
+   */
+  @Override
+  public ImmutableMap<String, NSObject> getEntitlements() {
+    return entitlements;
+  }
+
+  /**
+   *SHA1 hashes of the certificates in the "DeveloperCertificates" section. 
+   */
+  @Override
+  public ImmutableSet<HashCode> getDeveloperCertificateFingerprints() {
+    return developerCertificateFingerprints;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProvisioningProfileMetadata#getAppID() appID} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for appID
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProvisioningProfileMetadata withAppID(Pair<String, String> value) {
+    if (this.appID == value) return this;
+    Pair<String, String> newValue = Objects.requireNonNull(value, "appID");
+    return new ProvisioningProfileMetadata(
+        newValue,
+        this.expirationDate,
+        this.uUID,
+        this.profilePath,
+        this.platforms,
+        this.entitlements,
+        this.developerCertificateFingerprints);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProvisioningProfileMetadata#getExpirationDate() expirationDate} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for expirationDate
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProvisioningProfileMetadata withExpirationDate(Date value) {
+    if (this.expirationDate == value) return this;
+    Date newValue = Objects.requireNonNull(value, "expirationDate");
+    return new ProvisioningProfileMetadata(
+        this.appID,
+        newValue,
+        this.uUID,
+        this.profilePath,
+        this.platforms,
+        this.entitlements,
+        this.developerCertificateFingerprints);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProvisioningProfileMetadata#getUUID() uUID} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for uUID
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProvisioningProfileMetadata withUUID(String value) {
+    if (this.uUID.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "uUID");
+    return new ProvisioningProfileMetadata(
+        this.appID,
+        this.expirationDate,
+        newValue,
+        this.profilePath,
+        this.platforms,
+        this.entitlements,
+        this.developerCertificateFingerprints);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProvisioningProfileMetadata#getProfilePath() profilePath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for profilePath
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProvisioningProfileMetadata withProfilePath(Path value) {
+    if (this.profilePath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "profilePath");
+    return new ProvisioningProfileMetadata(
+        this.appID,
+        this.expirationDate,
+        this.uUID,
+        newValue,
+        this.platforms,
+        this.entitlements,
+        this.developerCertificateFingerprints);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractProvisioningProfileMetadata#getPlatforms() platforms}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ProvisioningProfileMetadata withPlatforms(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ProvisioningProfileMetadata(
+        this.appID,
+        this.expirationDate,
+        this.uUID,
+        this.profilePath,
+        newValue,
+        this.entitlements,
+        this.developerCertificateFingerprints);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractProvisioningProfileMetadata#getPlatforms() platforms}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of platforms elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ProvisioningProfileMetadata withPlatforms(Iterable<String> elements) {
+    if (this.platforms == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ProvisioningProfileMetadata(
+        this.appID,
+        this.expirationDate,
+        this.uUID,
+        this.profilePath,
+        newValue,
+        this.entitlements,
+        this.developerCertificateFingerprints);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractProvisioningProfileMetadata#getEntitlements() entitlements} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the entitlements map
+   * @return A modified copy of {@code this} object
+   */
+  public final ProvisioningProfileMetadata withEntitlements(Map<String, ? extends NSObject> entries) {
+    if (this.entitlements == entries) return this;
+    ImmutableMap<String, NSObject> newValue = ImmutableMap.copyOf(entries);
+    return new ProvisioningProfileMetadata(
+        this.appID,
+        this.expirationDate,
+        this.uUID,
+        this.profilePath,
+        this.platforms,
+        newValue,
+        this.developerCertificateFingerprints);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractProvisioningProfileMetadata#getDeveloperCertificateFingerprints() developerCertificateFingerprints}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ProvisioningProfileMetadata withDeveloperCertificateFingerprints(HashCode... elements) {
+    ImmutableSet<HashCode> newValue = ImmutableSet.copyOf(elements);
+    return new ProvisioningProfileMetadata(
+        this.appID,
+        this.expirationDate,
+        this.uUID,
+        this.profilePath,
+        this.platforms,
+        this.entitlements,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractProvisioningProfileMetadata#getDeveloperCertificateFingerprints() developerCertificateFingerprints}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of developerCertificateFingerprints elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ProvisioningProfileMetadata withDeveloperCertificateFingerprints(Iterable<? extends HashCode> elements) {
+    if (this.developerCertificateFingerprints == elements) return this;
+    ImmutableSet<HashCode> newValue = ImmutableSet.copyOf(elements);
+    return new ProvisioningProfileMetadata(
+        this.appID,
+        this.expirationDate,
+        this.uUID,
+        this.profilePath,
+        this.platforms,
+        this.entitlements,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ProvisioningProfileMetadata} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ProvisioningProfileMetadata
+        && equalTo((ProvisioningProfileMetadata) another);
+  }
+
+  private boolean equalTo(ProvisioningProfileMetadata another) {
+    return appID.equals(another.appID)
+        && expirationDate.equals(another.expirationDate)
+        && uUID.equals(another.uUID)
+        && profilePath.equals(another.profilePath)
+        && platforms.equals(another.platforms)
+        && entitlements.equals(another.entitlements)
+        && developerCertificateFingerprints.equals(another.developerCertificateFingerprints);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code appID}, {@code expirationDate}, {@code uUID}, {@code profilePath}, {@code platforms}, {@code entitlements}, {@code developerCertificateFingerprints}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + appID.hashCode();
+    h += (h << 5) + expirationDate.hashCode();
+    h += (h << 5) + uUID.hashCode();
+    h += (h << 5) + profilePath.hashCode();
+    h += (h << 5) + platforms.hashCode();
+    h += (h << 5) + entitlements.hashCode();
+    h += (h << 5) + developerCertificateFingerprints.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ProvisioningProfileMetadata} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProvisioningProfileMetadata")
+        .omitNullValues()
+        .add("appID", appID)
+        .add("expirationDate", expirationDate)
+        .add("uUID", uUID)
+        .add("profilePath", profilePath)
+        .add("platforms", platforms)
+        .add("entitlements", entitlements)
+        .add("developerCertificateFingerprints", developerCertificateFingerprints)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractProvisioningProfileMetadata} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ProvisioningProfileMetadata instance
+   */
+  static ProvisioningProfileMetadata copyOf(AbstractProvisioningProfileMetadata instance) {
+    if (instance instanceof ProvisioningProfileMetadata) {
+      return (ProvisioningProfileMetadata) instance;
+    }
+    return ProvisioningProfileMetadata.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ProvisioningProfileMetadata ProvisioningProfileMetadata}.
+   * @return A new ProvisioningProfileMetadata builder
+   */
+  public static ProvisioningProfileMetadata.Builder builder() {
+    return new ProvisioningProfileMetadata.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ProvisioningProfileMetadata ProvisioningProfileMetadata}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_APP_I_D = 0x1L;
+    private static final long INIT_BIT_EXPIRATION_DATE = 0x2L;
+    private static final long INIT_BIT_U_U_I_D = 0x4L;
+    private static final long INIT_BIT_PROFILE_PATH = 0x8L;
+    private static final long OPT_BIT_PLATFORMS = 0x1L;
+    private long initBits = 0xfL;
+    private long optBits;
+
+    private @Nullable Pair<String, String> appID;
+    private @Nullable Date expirationDate;
+    private @Nullable String uUID;
+    private @Nullable Path profilePath;
+    private ImmutableList.Builder<String> platforms = ImmutableList.builder();
+    private ImmutableMap.Builder<String, NSObject> entitlements = ImmutableMap.builder();
+    private ImmutableSet.Builder<HashCode> developerCertificateFingerprints = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ProvisioningProfileMetadata} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ProvisioningProfileMetadata instance) {
+      return from((AbstractProvisioningProfileMetadata) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractProvisioningProfileMetadata} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractProvisioningProfileMetadata instance) {
+      Objects.requireNonNull(instance, "instance");
+      setAppID(instance.getAppID());
+      setExpirationDate(instance.getExpirationDate());
+      setUUID(instance.getUUID());
+      setProfilePath(instance.getProfilePath());
+      addAllPlatforms(instance.getPlatforms());
+      putAllEntitlements(instance.getEntitlements());
+      addAllDeveloperCertificateFingerprints(instance.getDeveloperCertificateFingerprints());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProvisioningProfileMetadata#getAppID() appID} attribute.
+     * @param appID The value for appID 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAppID(Pair<String, String> appID) {
+      this.appID = Objects.requireNonNull(appID, "appID");
+      initBits &= ~INIT_BIT_APP_I_D;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProvisioningProfileMetadata#getExpirationDate() expirationDate} attribute.
+     * @param expirationDate The value for expirationDate 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExpirationDate(Date expirationDate) {
+      this.expirationDate = Objects.requireNonNull(expirationDate, "expirationDate");
+      initBits &= ~INIT_BIT_EXPIRATION_DATE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProvisioningProfileMetadata#getUUID() uUID} attribute.
+     * @param uUID The value for uUID 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUUID(String uUID) {
+      this.uUID = Objects.requireNonNull(uUID, "uUID");
+      initBits &= ~INIT_BIT_U_U_I_D;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProvisioningProfileMetadata#getProfilePath() profilePath} attribute.
+     * @param profilePath The value for profilePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProfilePath(Path profilePath) {
+      this.profilePath = Objects.requireNonNull(profilePath, "profilePath");
+      initBits &= ~INIT_BIT_PROFILE_PATH;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractProvisioningProfileMetadata#getPlatforms() platforms} list.
+     * @param element A platforms element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPlatforms(String element) {
+      this.platforms.add(element);
+      optBits |= OPT_BIT_PLATFORMS;
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractProvisioningProfileMetadata#getPlatforms() platforms} list.
+     * @param elements An array of platforms elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPlatforms(String... elements) {
+      this.platforms.add(elements);
+      optBits |= OPT_BIT_PLATFORMS;
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractProvisioningProfileMetadata#getPlatforms() platforms} list.
+     * @param elements An iterable of platforms elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatforms(Iterable<String> elements) {
+      this.platforms = ImmutableList.builder();
+      return addAllPlatforms(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractProvisioningProfileMetadata#getPlatforms() platforms} list.
+     * @param elements An iterable of platforms elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPlatforms(Iterable<String> elements) {
+      this.platforms.addAll(elements);
+      optBits |= OPT_BIT_PLATFORMS;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractProvisioningProfileMetadata#getEntitlements() entitlements} map.
+     * @param key The key in the entitlements map
+     * @param value The associated value in the entitlements map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEntitlements(String key, NSObject value) {
+      this.entitlements.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractProvisioningProfileMetadata#getEntitlements() entitlements} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEntitlements(Map.Entry<String, ? extends NSObject> entry) {
+      this.entitlements.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractProvisioningProfileMetadata#getEntitlements() entitlements} map. Nulls are not permitted
+     * @param entitlements The entries that will be added to the entitlements map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEntitlements(Map<String, ? extends NSObject> entitlements) {
+      this.entitlements = ImmutableMap.builder();
+      return putAllEntitlements(entitlements);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractProvisioningProfileMetadata#getEntitlements() entitlements} map. Nulls are not permitted
+     * @param entitlements The entries that will be added to the entitlements map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllEntitlements(Map<String, ? extends NSObject> entitlements) {
+      this.entitlements.putAll(entitlements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractProvisioningProfileMetadata#getDeveloperCertificateFingerprints() developerCertificateFingerprints} set.
+     * @param element A developerCertificateFingerprints element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeveloperCertificateFingerprints(HashCode element) {
+      this.developerCertificateFingerprints.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractProvisioningProfileMetadata#getDeveloperCertificateFingerprints() developerCertificateFingerprints} set.
+     * @param elements An array of developerCertificateFingerprints elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeveloperCertificateFingerprints(HashCode... elements) {
+      this.developerCertificateFingerprints.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractProvisioningProfileMetadata#getDeveloperCertificateFingerprints() developerCertificateFingerprints} set.
+     * @param elements An iterable of developerCertificateFingerprints elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeveloperCertificateFingerprints(Iterable<? extends HashCode> elements) {
+      this.developerCertificateFingerprints = ImmutableSet.builder();
+      return addAllDeveloperCertificateFingerprints(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractProvisioningProfileMetadata#getDeveloperCertificateFingerprints() developerCertificateFingerprints} set.
+     * @param elements An iterable of developerCertificateFingerprints elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeveloperCertificateFingerprints(Iterable<? extends HashCode> elements) {
+      this.developerCertificateFingerprints.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ProvisioningProfileMetadata ProvisioningProfileMetadata}.
+     * @return An immutable instance of ProvisioningProfileMetadata
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ProvisioningProfileMetadata build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ProvisioningProfileMetadata(this);
+    }
+
+    private boolean platformsIsSet() {
+      return (optBits & OPT_BIT_PLATFORMS) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_APP_I_D) != 0) attributes.add("appID");
+      if ((initBits & INIT_BIT_EXPIRATION_DATE) != 0) attributes.add("expirationDate");
+      if ((initBits & INIT_BIT_U_U_I_D) != 0) attributes.add("uUID");
+      if ((initBits & INIT_BIT_PROFILE_PATH) != 0) attributes.add("profilePath");
+      return "Cannot build ProvisioningProfileMetadata, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,197 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AppleTestDescription.AbstractTestHostInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code TestHostInfo.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AppleTestDescription.AbstractTestHostInfo"})
+@Immutable
+public final class TestHostInfo implements AppleTestDescription.AbstractTestHostInfo {
+  private final AppleBundle testHostApp;
+  private final SourcePath testHostAppBinarySourcePath;
+  private final ImmutableSet<BuildTarget> blacklist;
+
+  private TestHostInfo(
+      AppleBundle testHostApp,
+      SourcePath testHostAppBinarySourcePath,
+      Iterable<? extends BuildTarget> blacklist) {
+    this.testHostApp = Objects.requireNonNull(testHostApp, "testHostApp");
+    this.testHostAppBinarySourcePath = Objects.requireNonNull(testHostAppBinarySourcePath, "testHostAppBinarySourcePath");
+    this.blacklist = ImmutableSet.copyOf(blacklist);
+  }
+
+  private TestHostInfo(
+      TestHostInfo original,
+      AppleBundle testHostApp,
+      SourcePath testHostAppBinarySourcePath,
+      ImmutableSet<BuildTarget> blacklist) {
+    this.testHostApp = testHostApp;
+    this.testHostAppBinarySourcePath = testHostAppBinarySourcePath;
+    this.blacklist = blacklist;
+  }
+
+  /**
+   * @return The value of the {@code testHostApp} attribute
+   */
+  @Override
+  public AppleBundle getTestHostApp() {
+    return testHostApp;
+  }
+
+  /**
+   * Location of the test host binary that can be passed as the "bundle loader" option when
+   * linking the test library.
+   */
+  @Override
+  public SourcePath getTestHostAppBinarySourcePath() {
+    return testHostAppBinarySourcePath;
+  }
+
+  /**
+   *Libraries included in test host that should not be linked into the test library. 
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getBlacklist() {
+    return blacklist;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleTestDescription.AbstractTestHostInfo#getTestHostApp() testHostApp} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for testHostApp
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestHostInfo withTestHostApp(AppleBundle value) {
+    if (this.testHostApp == value) return this;
+    AppleBundle newValue = Objects.requireNonNull(value, "testHostApp");
+    return new TestHostInfo(this, newValue, this.testHostAppBinarySourcePath, this.blacklist);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleTestDescription.AbstractTestHostInfo#getTestHostAppBinarySourcePath() testHostAppBinarySourcePath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for testHostAppBinarySourcePath
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestHostInfo withTestHostAppBinarySourcePath(SourcePath value) {
+    if (this.testHostAppBinarySourcePath == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "testHostAppBinarySourcePath");
+    return new TestHostInfo(this, this.testHostApp, newValue, this.blacklist);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleTestDescription.AbstractTestHostInfo#getBlacklist() blacklist}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TestHostInfo withBlacklist(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new TestHostInfo(this, this.testHostApp, this.testHostAppBinarySourcePath, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleTestDescription.AbstractTestHostInfo#getBlacklist() blacklist}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of blacklist elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TestHostInfo withBlacklist(Iterable<? extends BuildTarget> elements) {
+    if (this.blacklist == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new TestHostInfo(this, this.testHostApp, this.testHostAppBinarySourcePath, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TestHostInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TestHostInfo
+        && equalTo((TestHostInfo) another);
+  }
+
+  private boolean equalTo(TestHostInfo another) {
+    return testHostApp.equals(another.testHostApp)
+        && testHostAppBinarySourcePath.equals(another.testHostAppBinarySourcePath)
+        && blacklist.equals(another.blacklist);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code testHostApp}, {@code testHostAppBinarySourcePath}, {@code blacklist}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + testHostApp.hashCode();
+    h += (h << 5) + testHostAppBinarySourcePath.hashCode();
+    h += (h << 5) + blacklist.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TestHostInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestHostInfo")
+        .omitNullValues()
+        .add("testHostApp", testHostApp)
+        .add("testHostAppBinarySourcePath", testHostAppBinarySourcePath)
+        .add("blacklist", blacklist)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TestHostInfo} instance.
+   * @param testHostApp The value for the {@code testHostApp} attribute
+   * @param testHostAppBinarySourcePath The value for the {@code testHostAppBinarySourcePath} attribute
+   * @param blacklist The value for the {@code blacklist} attribute
+   * @return An immutable TestHostInfo instance
+   */
+  public static TestHostInfo of(AppleBundle testHostApp, SourcePath testHostAppBinarySourcePath, ImmutableSet<BuildTarget> blacklist) {
+    return of(testHostApp, testHostAppBinarySourcePath, (Iterable<? extends BuildTarget>) blacklist);
+  }
+
+  /**
+   * Construct a new immutable {@code TestHostInfo} instance.
+   * @param testHostApp The value for the {@code testHostApp} attribute
+   * @param testHostAppBinarySourcePath The value for the {@code testHostAppBinarySourcePath} attribute
+   * @param blacklist The value for the {@code blacklist} attribute
+   * @return An immutable TestHostInfo instance
+   */
+  public static TestHostInfo of(AppleBundle testHostApp, SourcePath testHostAppBinarySourcePath, Iterable<? extends BuildTarget> blacklist) {
+    return new TestHostInfo(testHostApp, testHostAppBinarySourcePath, blacklist);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AppleTestDescription.AbstractTestHostInfo} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable TestHostInfo instance
+   */
+  static TestHostInfo copyOf(AppleTestDescription.AbstractTestHostInfo instance) {
+    if (instance instanceof TestHostInfo) {
+      return (TestHostInfo) instance;
+    }
+    return TestHostInfo.of(instance.getTestHostApp(), instance.getTestHostAppBinarySourcePath(), instance.getBlacklist());
+  }
+}
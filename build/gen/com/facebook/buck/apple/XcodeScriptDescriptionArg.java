@@ -0,0 +1,595 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasSrcs;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractXcodeScriptDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code XcodeScriptDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractXcodeScriptDescriptionArg"})
+@Immutable
+public final class XcodeScriptDescriptionArg
+    implements AbstractXcodeScriptDescriptionArg {
+  private final ImmutableSortedSet<String> outputs;
+  private final String cmd;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<SourcePath> srcs;
+
+  private XcodeScriptDescriptionArg(
+      ImmutableSortedSet<String> outputs,
+      String cmd,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<SourcePath> srcs) {
+    this.outputs = outputs;
+    this.cmd = cmd;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.srcs = srcs;
+  }
+
+  /**
+   * @return The value of the {@code outputs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getOutputs() {
+    return outputs;
+  }
+
+  /**
+   * @return The value of the {@code cmd} attribute
+   */
+  @Override
+  public String getCmd() {
+    return cmd;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractXcodeScriptDescriptionArg#getOutputs() outputs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeScriptDescriptionArg withOutputs(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new XcodeScriptDescriptionArg(newValue, this.cmd, this.name, this.licenses, this.labels, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractXcodeScriptDescriptionArg#getOutputs() outputs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of outputs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeScriptDescriptionArg withOutputs(Iterable<String> elements) {
+    if (this.outputs == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new XcodeScriptDescriptionArg(newValue, this.cmd, this.name, this.licenses, this.labels, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractXcodeScriptDescriptionArg#getCmd() cmd} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cmd
+   * @return A modified copy of the {@code this} object
+   */
+  public final XcodeScriptDescriptionArg withCmd(String value) {
+    if (this.cmd.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "cmd");
+    return new XcodeScriptDescriptionArg(this.outputs, newValue, this.name, this.licenses, this.labels, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractXcodeScriptDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final XcodeScriptDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new XcodeScriptDescriptionArg(this.outputs, this.cmd, newValue, this.licenses, this.labels, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractXcodeScriptDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeScriptDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new XcodeScriptDescriptionArg(this.outputs, this.cmd, this.name, newValue, this.labels, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractXcodeScriptDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeScriptDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new XcodeScriptDescriptionArg(this.outputs, this.cmd, this.name, newValue, this.labels, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractXcodeScriptDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeScriptDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new XcodeScriptDescriptionArg(this.outputs, this.cmd, this.name, this.licenses, newValue, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractXcodeScriptDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeScriptDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new XcodeScriptDescriptionArg(this.outputs, this.cmd, this.name, this.licenses, newValue, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractXcodeScriptDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeScriptDescriptionArg withSrcs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new XcodeScriptDescriptionArg(this.outputs, this.cmd, this.name, this.licenses, this.labels, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractXcodeScriptDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeScriptDescriptionArg withSrcs(Iterable<? extends SourcePath> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new XcodeScriptDescriptionArg(this.outputs, this.cmd, this.name, this.licenses, this.labels, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code XcodeScriptDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof XcodeScriptDescriptionArg
+        && equalTo((XcodeScriptDescriptionArg) another);
+  }
+
+  private boolean equalTo(XcodeScriptDescriptionArg another) {
+    return outputs.equals(another.outputs)
+        && cmd.equals(another.cmd)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && srcs.equals(another.srcs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code outputs}, {@code cmd}, {@code name}, {@code licenses}, {@code labels}, {@code srcs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + outputs.hashCode();
+    h += (h << 5) + cmd.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code XcodeScriptDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("XcodeScriptDescriptionArg")
+        .omitNullValues()
+        .add("outputs", outputs)
+        .add("cmd", cmd)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("srcs", srcs)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractXcodeScriptDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable XcodeScriptDescriptionArg instance
+   */
+  static XcodeScriptDescriptionArg copyOf(AbstractXcodeScriptDescriptionArg instance) {
+    if (instance instanceof XcodeScriptDescriptionArg) {
+      return (XcodeScriptDescriptionArg) instance;
+    }
+    return XcodeScriptDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link XcodeScriptDescriptionArg XcodeScriptDescriptionArg}.
+   * @return A new XcodeScriptDescriptionArg builder
+   */
+  public static XcodeScriptDescriptionArg.Builder builder() {
+    return new XcodeScriptDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link XcodeScriptDescriptionArg XcodeScriptDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CMD = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private ImmutableSortedSet.Builder<String> outputs = ImmutableSortedSet.naturalOrder();
+    private @Nullable String cmd;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasSrcs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasSrcs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code XcodeScriptDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(XcodeScriptDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractXcodeScriptDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractXcodeScriptDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasSrcs) {
+        HasSrcs instance = (HasSrcs) object;
+        addAllSrcs(instance.getSrcs());
+      }
+      if (object instanceof AbstractXcodeScriptDescriptionArg) {
+        AbstractXcodeScriptDescriptionArg instance = (AbstractXcodeScriptDescriptionArg) object;
+        addAllOutputs(instance.getOutputs());
+        setCmd(instance.getCmd());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Adds one element to {@link AbstractXcodeScriptDescriptionArg#getOutputs() outputs} sortedSet.
+     * @param element A outputs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addOutputs(String element) {
+      this.outputs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractXcodeScriptDescriptionArg#getOutputs() outputs} sortedSet.
+     * @param elements An array of outputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addOutputs(String... elements) {
+      this.outputs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractXcodeScriptDescriptionArg#getOutputs() outputs} sortedSet.
+     * @param elements An iterable of outputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOutputs(Iterable<String> elements) {
+      this.outputs = ImmutableSortedSet.naturalOrder();
+      return addAllOutputs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractXcodeScriptDescriptionArg#getOutputs() outputs} sortedSet.
+     * @param elements An iterable of outputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllOutputs(Iterable<String> elements) {
+      this.outputs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractXcodeScriptDescriptionArg#getCmd() cmd} attribute.
+     * @param cmd The value for cmd 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCmd(String cmd) {
+      this.cmd = Objects.requireNonNull(cmd, "cmd");
+      initBits &= ~INIT_BIT_CMD;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractXcodeScriptDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractXcodeScriptDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractXcodeScriptDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractXcodeScriptDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractXcodeScriptDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractXcodeScriptDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractXcodeScriptDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractXcodeScriptDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractXcodeScriptDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractXcodeScriptDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractXcodeScriptDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractXcodeScriptDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractXcodeScriptDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link XcodeScriptDescriptionArg XcodeScriptDescriptionArg}.
+     * @return An immutable instance of XcodeScriptDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public XcodeScriptDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new XcodeScriptDescriptionArg(outputs.build(), cmd, name, licenses.build(), labels.build(), srcs.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CMD) != 0) attributes.add("cmd");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build XcodeScriptDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
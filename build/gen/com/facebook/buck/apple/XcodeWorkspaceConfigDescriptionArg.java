@@ -0,0 +1,1371 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.apple.xcode.XCScheme;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code XcodeWorkspaceConfigDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg"})
+@Immutable
+public final class XcodeWorkspaceConfigDescriptionArg
+    implements XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg {
+  private final @Nullable BuildTarget srcTarget;
+  private final ImmutableSortedSet<BuildTarget> extraTests;
+  private final ImmutableSortedSet<BuildTarget> extraTargets;
+  private final @Nullable String workspaceName;
+  private final ImmutableMap<SchemeActionType, String> actionConfigNames;
+  private final ImmutableSortedMap<String, BuildTarget> extraSchemes;
+  private final @Nullable ImmutableMap<SchemeActionType, ImmutableMap<String, String>> environmentVariables;
+  private final @Nullable Boolean isRemoteRunnable;
+  private final @Nullable String explicitRunnablePath;
+  private final @Nullable XCScheme.LaunchAction.LaunchStyle launchStyle;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+
+  private XcodeWorkspaceConfigDescriptionArg(
+      @Nullable BuildTarget srcTarget,
+      ImmutableSortedSet<BuildTarget> extraTests,
+      ImmutableSortedSet<BuildTarget> extraTargets,
+      @Nullable String workspaceName,
+      ImmutableMap<SchemeActionType, String> actionConfigNames,
+      ImmutableSortedMap<String, BuildTarget> extraSchemes,
+      @Nullable ImmutableMap<SchemeActionType, ImmutableMap<String, String>> environmentVariables,
+      @Nullable Boolean isRemoteRunnable,
+      @Nullable String explicitRunnablePath,
+      @Nullable XCScheme.LaunchAction.LaunchStyle launchStyle,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels) {
+    this.srcTarget = srcTarget;
+    this.extraTests = extraTests;
+    this.extraTargets = extraTargets;
+    this.workspaceName = workspaceName;
+    this.actionConfigNames = actionConfigNames;
+    this.extraSchemes = extraSchemes;
+    this.environmentVariables = environmentVariables;
+    this.isRemoteRunnable = isRemoteRunnable;
+    this.explicitRunnablePath = explicitRunnablePath;
+    this.launchStyle = launchStyle;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+  }
+
+  /**
+   * @return The value of the {@code srcTarget} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getSrcTarget() {
+    return Optional.ofNullable(srcTarget);
+  }
+
+  /**
+   * @return The value of the {@code extraTests} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getExtraTests() {
+    return extraTests;
+  }
+
+  /**
+   * @return The value of the {@code extraTargets} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getExtraTargets() {
+    return extraTargets;
+  }
+
+  /**
+   * @return The value of the {@code workspaceName} attribute
+   */
+  @Override
+  public Optional<String> getWorkspaceName() {
+    return Optional.ofNullable(workspaceName);
+  }
+
+  /**
+   * @return The value of the {@code actionConfigNames} attribute
+   */
+  @Override
+  public ImmutableMap<SchemeActionType, String> getActionConfigNames() {
+    return actionConfigNames;
+  }
+
+  /**
+   * @return The value of the {@code extraSchemes} attribute
+   */
+  @Override
+  public ImmutableSortedMap<String, BuildTarget> getExtraSchemes() {
+    return extraSchemes;
+  }
+
+  /**
+   * @return The value of the {@code environmentVariables} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<SchemeActionType, ImmutableMap<String, String>>> getEnvironmentVariables() {
+    return Optional.ofNullable(environmentVariables);
+  }
+
+  /**
+   * @return The value of the {@code isRemoteRunnable} attribute
+   */
+  @Override
+  public Optional<Boolean> getIsRemoteRunnable() {
+    return Optional.ofNullable(isRemoteRunnable);
+  }
+
+  /**
+   * @return The value of the {@code explicitRunnablePath} attribute
+   */
+  @Override
+  public Optional<String> getExplicitRunnablePath() {
+    return Optional.ofNullable(explicitRunnablePath);
+  }
+
+  /**
+   * @return The value of the {@code launchStyle} attribute
+   */
+  @Override
+  public Optional<XCScheme.LaunchAction.LaunchStyle> getLaunchStyle() {
+    return Optional.ofNullable(launchStyle);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getSrcTarget() srcTarget} attribute.
+   * @param value The value for srcTarget
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withSrcTarget(BuildTarget value) {
+    @Nullable BuildTarget newValue = Objects.requireNonNull(value, "srcTarget");
+    if (this.srcTarget == newValue) return this;
+    return new XcodeWorkspaceConfigDescriptionArg(
+        newValue,
+        this.extraTests,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getSrcTarget() srcTarget} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for srcTarget
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withSrcTarget(Optional<? extends BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.srcTarget == value) return this;
+    return new XcodeWorkspaceConfigDescriptionArg(
+        value,
+        this.extraTests,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExtraTests() extraTests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withExtraTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        newValue,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExtraTests() extraTests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of extraTests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withExtraTests(Iterable<? extends BuildTarget> elements) {
+    if (this.extraTests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        newValue,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExtraTargets() extraTargets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withExtraTargets(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        newValue,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExtraTargets() extraTargets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of extraTargets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withExtraTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.extraTargets == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        newValue,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getWorkspaceName() workspaceName} attribute.
+   * @param value The value for workspaceName
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withWorkspaceName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "workspaceName");
+    if (Objects.equals(this.workspaceName, newValue)) return this;
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        this.extraTargets,
+        newValue,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getWorkspaceName() workspaceName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for workspaceName
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withWorkspaceName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.workspaceName, value)) return this;
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        this.extraTargets,
+        value,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getActionConfigNames() actionConfigNames} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the actionConfigNames map
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withActionConfigNames(Map<SchemeActionType, ? extends String> entries) {
+    if (this.actionConfigNames == entries) return this;
+    ImmutableMap<SchemeActionType, String> newValue = Maps.immutableEnumMap(entries);
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        this.extraTargets,
+        this.workspaceName,
+        newValue,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExtraSchemes() extraSchemes} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the extraSchemes map
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withExtraSchemes(Map<String, ? extends BuildTarget> entries) {
+    if (this.extraSchemes == entries) return this;
+    ImmutableSortedMap<String, BuildTarget> newValue = ImmutableSortedMap.copyOf(entries,
+        Ordering.<String>natural()
+    );
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        newValue,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getEnvironmentVariables() environmentVariables} attribute.
+   * @param value The value for environmentVariables
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withEnvironmentVariables(ImmutableMap<SchemeActionType, ImmutableMap<String, String>> value) {
+    @Nullable ImmutableMap<SchemeActionType, ImmutableMap<String, String>> newValue = Objects.requireNonNull(value, "environmentVariables");
+    if (this.environmentVariables == newValue) return this;
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        newValue,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getEnvironmentVariables() environmentVariables} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for environmentVariables
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withEnvironmentVariables(Optional<? extends ImmutableMap<SchemeActionType, ImmutableMap<String, String>>> optional) {
+    @Nullable ImmutableMap<SchemeActionType, ImmutableMap<String, String>> value = optional.orElse(null);
+    if (this.environmentVariables == value) return this;
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        value,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getIsRemoteRunnable() isRemoteRunnable} attribute.
+   * @param value The value for isRemoteRunnable
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withIsRemoteRunnable(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.isRemoteRunnable, newValue)) return this;
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        newValue,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getIsRemoteRunnable() isRemoteRunnable} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for isRemoteRunnable
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withIsRemoteRunnable(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.isRemoteRunnable, value)) return this;
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        value,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExplicitRunnablePath() explicitRunnablePath} attribute.
+   * @param value The value for explicitRunnablePath
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withExplicitRunnablePath(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "explicitRunnablePath");
+    if (Objects.equals(this.explicitRunnablePath, newValue)) return this;
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        newValue,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExplicitRunnablePath() explicitRunnablePath} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for explicitRunnablePath
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withExplicitRunnablePath(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.explicitRunnablePath, value)) return this;
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        value,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getLaunchStyle() launchStyle} attribute.
+   * @param value The value for launchStyle
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withLaunchStyle(XCScheme.LaunchAction.LaunchStyle value) {
+    @Nullable XCScheme.LaunchAction.LaunchStyle newValue = Objects.requireNonNull(value, "launchStyle");
+    if (this.launchStyle == newValue) return this;
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getLaunchStyle() launchStyle} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for launchStyle
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withLaunchStyle(Optional<? extends XCScheme.LaunchAction.LaunchStyle> optional) {
+    @Nullable XCScheme.LaunchAction.LaunchStyle value = optional.orElse(null);
+    if (Objects.equals(this.launchStyle, value)) return this;
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        value,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        newValue,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        newValue,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        newValue,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final XcodeWorkspaceConfigDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new XcodeWorkspaceConfigDescriptionArg(
+        this.srcTarget,
+        this.extraTests,
+        this.extraTargets,
+        this.workspaceName,
+        this.actionConfigNames,
+        this.extraSchemes,
+        this.environmentVariables,
+        this.isRemoteRunnable,
+        this.explicitRunnablePath,
+        this.launchStyle,
+        this.name,
+        this.licenses,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code XcodeWorkspaceConfigDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof XcodeWorkspaceConfigDescriptionArg
+        && equalTo((XcodeWorkspaceConfigDescriptionArg) another);
+  }
+
+  private boolean equalTo(XcodeWorkspaceConfigDescriptionArg another) {
+    return Objects.equals(srcTarget, another.srcTarget)
+        && extraTests.equals(another.extraTests)
+        && extraTargets.equals(another.extraTargets)
+        && Objects.equals(workspaceName, another.workspaceName)
+        && actionConfigNames.equals(another.actionConfigNames)
+        && extraSchemes.equals(another.extraSchemes)
+        && Objects.equals(environmentVariables, another.environmentVariables)
+        && Objects.equals(isRemoteRunnable, another.isRemoteRunnable)
+        && Objects.equals(explicitRunnablePath, another.explicitRunnablePath)
+        && Objects.equals(launchStyle, another.launchStyle)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code srcTarget}, {@code extraTests}, {@code extraTargets}, {@code workspaceName}, {@code actionConfigNames}, {@code extraSchemes}, {@code environmentVariables}, {@code isRemoteRunnable}, {@code explicitRunnablePath}, {@code launchStyle}, {@code name}, {@code licenses}, {@code labels}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(srcTarget);
+    h += (h << 5) + extraTests.hashCode();
+    h += (h << 5) + extraTargets.hashCode();
+    h += (h << 5) + Objects.hashCode(workspaceName);
+    h += (h << 5) + actionConfigNames.hashCode();
+    h += (h << 5) + extraSchemes.hashCode();
+    h += (h << 5) + Objects.hashCode(environmentVariables);
+    h += (h << 5) + Objects.hashCode(isRemoteRunnable);
+    h += (h << 5) + Objects.hashCode(explicitRunnablePath);
+    h += (h << 5) + Objects.hashCode(launchStyle);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code XcodeWorkspaceConfigDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("XcodeWorkspaceConfigDescriptionArg")
+        .omitNullValues()
+        .add("srcTarget", srcTarget)
+        .add("extraTests", extraTests)
+        .add("extraTargets", extraTargets)
+        .add("workspaceName", workspaceName)
+        .add("actionConfigNames", actionConfigNames)
+        .add("extraSchemes", extraSchemes)
+        .add("environmentVariables", environmentVariables)
+        .add("isRemoteRunnable", isRemoteRunnable)
+        .add("explicitRunnablePath", explicitRunnablePath)
+        .add("launchStyle", launchStyle)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable XcodeWorkspaceConfigDescriptionArg instance
+   */
+  static XcodeWorkspaceConfigDescriptionArg copyOf(XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg instance) {
+    if (instance instanceof XcodeWorkspaceConfigDescriptionArg) {
+      return (XcodeWorkspaceConfigDescriptionArg) instance;
+    }
+    return XcodeWorkspaceConfigDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link XcodeWorkspaceConfigDescriptionArg XcodeWorkspaceConfigDescriptionArg}.
+   * @return A new XcodeWorkspaceConfigDescriptionArg builder
+   */
+  public static XcodeWorkspaceConfigDescriptionArg.Builder builder() {
+    return new XcodeWorkspaceConfigDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link XcodeWorkspaceConfigDescriptionArg XcodeWorkspaceConfigDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable BuildTarget srcTarget;
+    private ImmutableSortedSet.Builder<BuildTarget> extraTests = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> extraTargets = ImmutableSortedSet.naturalOrder();
+    private @Nullable String workspaceName;
+    private ImmutableMap.Builder<SchemeActionType, String> actionConfigNames = ImmutableMap.builder();
+    private ImmutableSortedMap.Builder<String, BuildTarget> extraSchemes = ImmutableSortedMap.naturalOrder();
+    private @Nullable ImmutableMap<SchemeActionType, ImmutableMap<String, String>> environmentVariables;
+    private @Nullable Boolean isRemoteRunnable;
+    private @Nullable String explicitRunnablePath;
+    private @Nullable XCScheme.LaunchAction.LaunchStyle launchStyle;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code XcodeWorkspaceConfigDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(XcodeWorkspaceConfigDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractXcodeWorkspaceConfigDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg) {
+        XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg instance = (XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg) object;
+        addAllExtraTests(instance.getExtraTests());
+        Optional<Boolean> isRemoteRunnableOptional = instance.getIsRemoteRunnable();
+        if (isRemoteRunnableOptional.isPresent()) {
+          setIsRemoteRunnable(isRemoteRunnableOptional);
+        }
+        putAllExtraSchemes(instance.getExtraSchemes());
+        Optional<BuildTarget> srcTargetOptional = instance.getSrcTarget();
+        if (srcTargetOptional.isPresent()) {
+          setSrcTarget(srcTargetOptional);
+        }
+        Optional<String> explicitRunnablePathOptional = instance.getExplicitRunnablePath();
+        if (explicitRunnablePathOptional.isPresent()) {
+          setExplicitRunnablePath(explicitRunnablePathOptional);
+        }
+        Optional<ImmutableMap<SchemeActionType, ImmutableMap<String, String>>> environmentVariablesOptional = instance.getEnvironmentVariables();
+        if (environmentVariablesOptional.isPresent()) {
+          setEnvironmentVariables(environmentVariablesOptional);
+        }
+        addAllExtraTargets(instance.getExtraTargets());
+        Optional<String> workspaceNameOptional = instance.getWorkspaceName();
+        if (workspaceNameOptional.isPresent()) {
+          setWorkspaceName(workspaceNameOptional);
+        }
+        putAllActionConfigNames(instance.getActionConfigNames());
+        Optional<XCScheme.LaunchAction.LaunchStyle> launchStyleOptional = instance.getLaunchStyle();
+        if (launchStyleOptional.isPresent()) {
+          setLaunchStyle(launchStyleOptional);
+        }
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getSrcTarget() srcTarget} to srcTarget.
+     * @param srcTarget The value for srcTarget
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSrcTarget(BuildTarget srcTarget) {
+      this.srcTarget = Objects.requireNonNull(srcTarget, "srcTarget");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getSrcTarget() srcTarget} to srcTarget.
+     * @param srcTarget The value for srcTarget
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcTarget(Optional<? extends BuildTarget> srcTarget) {
+      this.srcTarget = srcTarget.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExtraTests() extraTests} sortedSet.
+     * @param element A extraTests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraTests(BuildTarget element) {
+      this.extraTests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExtraTests() extraTests} sortedSet.
+     * @param elements An array of extraTests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraTests(BuildTarget... elements) {
+      this.extraTests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExtraTests() extraTests} sortedSet.
+     * @param elements An iterable of extraTests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtraTests(Iterable<? extends BuildTarget> elements) {
+      this.extraTests = ImmutableSortedSet.naturalOrder();
+      return addAllExtraTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExtraTests() extraTests} sortedSet.
+     * @param elements An iterable of extraTests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExtraTests(Iterable<? extends BuildTarget> elements) {
+      this.extraTests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExtraTargets() extraTargets} sortedSet.
+     * @param element A extraTargets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraTargets(BuildTarget element) {
+      this.extraTargets.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExtraTargets() extraTargets} sortedSet.
+     * @param elements An array of extraTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraTargets(BuildTarget... elements) {
+      this.extraTargets.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExtraTargets() extraTargets} sortedSet.
+     * @param elements An iterable of extraTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtraTargets(Iterable<? extends BuildTarget> elements) {
+      this.extraTargets = ImmutableSortedSet.naturalOrder();
+      return addAllExtraTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExtraTargets() extraTargets} sortedSet.
+     * @param elements An iterable of extraTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExtraTargets(Iterable<? extends BuildTarget> elements) {
+      this.extraTargets.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getWorkspaceName() workspaceName} to workspaceName.
+     * @param workspaceName The value for workspaceName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setWorkspaceName(String workspaceName) {
+      this.workspaceName = Objects.requireNonNull(workspaceName, "workspaceName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getWorkspaceName() workspaceName} to workspaceName.
+     * @param workspaceName The value for workspaceName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWorkspaceName(Optional<String> workspaceName) {
+      this.workspaceName = workspaceName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getActionConfigNames() actionConfigNames} map.
+     * @param key The key in the actionConfigNames map
+     * @param value The associated value in the actionConfigNames map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putActionConfigNames(SchemeActionType key, String value) {
+      this.actionConfigNames.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getActionConfigNames() actionConfigNames} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putActionConfigNames(Map.Entry<SchemeActionType, ? extends String> entry) {
+      this.actionConfigNames.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getActionConfigNames() actionConfigNames} map. Nulls are not permitted
+     * @param actionConfigNames The entries that will be added to the actionConfigNames map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setActionConfigNames(Map<SchemeActionType, ? extends String> actionConfigNames) {
+      this.actionConfigNames = ImmutableMap.builder();
+      return putAllActionConfigNames(actionConfigNames);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getActionConfigNames() actionConfigNames} map. Nulls are not permitted
+     * @param actionConfigNames The entries that will be added to the actionConfigNames map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllActionConfigNames(Map<SchemeActionType, ? extends String> actionConfigNames) {
+      this.actionConfigNames.putAll(actionConfigNames);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExtraSchemes() extraSchemes} map.
+     * @param key The key in the extraSchemes map
+     * @param value The associated value in the extraSchemes map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putExtraSchemes(String key, BuildTarget value) {
+      this.extraSchemes.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExtraSchemes() extraSchemes} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putExtraSchemes(Map.Entry<String, ? extends BuildTarget> entry) {
+      this.extraSchemes.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExtraSchemes() extraSchemes} map. Nulls are not permitted
+     * @param extraSchemes The entries that will be added to the extraSchemes map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtraSchemes(Map<String, ? extends BuildTarget> extraSchemes) {
+      this.extraSchemes = ImmutableSortedMap.naturalOrder();
+      return putAllExtraSchemes(extraSchemes);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExtraSchemes() extraSchemes} map. Nulls are not permitted
+     * @param extraSchemes The entries that will be added to the extraSchemes map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllExtraSchemes(Map<String, ? extends BuildTarget> extraSchemes) {
+      this.extraSchemes.putAll(extraSchemes);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getEnvironmentVariables() environmentVariables} to environmentVariables.
+     * @param environmentVariables The value for environmentVariables
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setEnvironmentVariables(ImmutableMap<SchemeActionType, ImmutableMap<String, String>> environmentVariables) {
+      this.environmentVariables = Objects.requireNonNull(environmentVariables, "environmentVariables");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getEnvironmentVariables() environmentVariables} to environmentVariables.
+     * @param environmentVariables The value for environmentVariables
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnvironmentVariables(Optional<? extends ImmutableMap<SchemeActionType, ImmutableMap<String, String>>> environmentVariables) {
+      this.environmentVariables = environmentVariables.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getIsRemoteRunnable() isRemoteRunnable} to isRemoteRunnable.
+     * @param isRemoteRunnable The value for isRemoteRunnable
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setIsRemoteRunnable(boolean isRemoteRunnable) {
+      this.isRemoteRunnable = isRemoteRunnable;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getIsRemoteRunnable() isRemoteRunnable} to isRemoteRunnable.
+     * @param isRemoteRunnable The value for isRemoteRunnable
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIsRemoteRunnable(Optional<Boolean> isRemoteRunnable) {
+      this.isRemoteRunnable = isRemoteRunnable.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExplicitRunnablePath() explicitRunnablePath} to explicitRunnablePath.
+     * @param explicitRunnablePath The value for explicitRunnablePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExplicitRunnablePath(String explicitRunnablePath) {
+      this.explicitRunnablePath = Objects.requireNonNull(explicitRunnablePath, "explicitRunnablePath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getExplicitRunnablePath() explicitRunnablePath} to explicitRunnablePath.
+     * @param explicitRunnablePath The value for explicitRunnablePath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExplicitRunnablePath(Optional<String> explicitRunnablePath) {
+      this.explicitRunnablePath = explicitRunnablePath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getLaunchStyle() launchStyle} to launchStyle.
+     * @param launchStyle The value for launchStyle
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLaunchStyle(XCScheme.LaunchAction.LaunchStyle launchStyle) {
+      this.launchStyle = Objects.requireNonNull(launchStyle, "launchStyle");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getLaunchStyle() launchStyle} to launchStyle.
+     * @param launchStyle The value for launchStyle
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLaunchStyle(Optional<? extends XCScheme.LaunchAction.LaunchStyle> launchStyle) {
+      this.launchStyle = launchStyle.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link XcodeWorkspaceConfigDescription.AbstractXcodeWorkspaceConfigDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link XcodeWorkspaceConfigDescriptionArg XcodeWorkspaceConfigDescriptionArg}.
+     * @return An immutable instance of XcodeWorkspaceConfigDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public XcodeWorkspaceConfigDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new XcodeWorkspaceConfigDescriptionArg(
+          srcTarget,
+          extraTests.build(),
+          extraTargets.build(),
+          workspaceName,
+          Maps.immutableEnumMap(actionConfigNames.build()),
+          extraSchemes.build(),
+          environmentVariables,
+          isRemoteRunnable,
+          explicitRunnablePath,
+          launchStyle,
+          name,
+          licenses.build(),
+          labels.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build XcodeWorkspaceConfigDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
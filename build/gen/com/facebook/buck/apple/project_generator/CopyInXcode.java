@@ -0,0 +1,202 @@
+package com.facebook.buck.apple.project_generator;
+
+import com.google.common.base.MoreObjects;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractCopyInXcode}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code CopyInXcode.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCopyInXcode"})
+@Immutable
+public final class CopyInXcode extends AbstractCopyInXcode {
+  private final AbstractCopyInXcode.SourceType sourceType;
+  private final Path sourcePath;
+  private final AbstractCopyInXcode.DestinationBase destinationBase;
+  private final Path destinationPath;
+
+  private CopyInXcode(
+      AbstractCopyInXcode.SourceType sourceType,
+      Path sourcePath,
+      AbstractCopyInXcode.DestinationBase destinationBase,
+      Path destinationPath) {
+    this.sourceType = Objects.requireNonNull(sourceType, "sourceType");
+    this.sourcePath = Objects.requireNonNull(sourcePath, "sourcePath");
+    this.destinationBase = Objects.requireNonNull(destinationBase, "destinationBase");
+    this.destinationPath = Objects.requireNonNull(destinationPath, "destinationPath");
+  }
+
+  private CopyInXcode(
+      CopyInXcode original,
+      AbstractCopyInXcode.SourceType sourceType,
+      Path sourcePath,
+      AbstractCopyInXcode.DestinationBase destinationBase,
+      Path destinationPath) {
+    this.sourceType = sourceType;
+    this.sourcePath = sourcePath;
+    this.destinationBase = destinationBase;
+    this.destinationPath = destinationPath;
+  }
+
+  /**
+   * @return The value of the {@code sourceType} attribute
+   */
+  @Override
+  public AbstractCopyInXcode.SourceType getSourceType() {
+    return sourceType;
+  }
+
+  /**
+   * @return The value of the {@code sourcePath} attribute
+   */
+  @Override
+  public Path getSourcePath() {
+    return sourcePath;
+  }
+
+  /**
+   * @return The value of the {@code destinationBase} attribute
+   */
+  @Override
+  public AbstractCopyInXcode.DestinationBase getDestinationBase() {
+    return destinationBase;
+  }
+
+  /**
+   * @return The value of the {@code destinationPath} attribute
+   */
+  @Override
+  public Path getDestinationPath() {
+    return destinationPath;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCopyInXcode#getSourceType() sourceType} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sourceType
+   * @return A modified copy of the {@code this} object
+   */
+  public final CopyInXcode withSourceType(AbstractCopyInXcode.SourceType value) {
+    if (this.sourceType == value) return this;
+    AbstractCopyInXcode.SourceType newValue = Objects.requireNonNull(value, "sourceType");
+    return new CopyInXcode(this, newValue, this.sourcePath, this.destinationBase, this.destinationPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCopyInXcode#getSourcePath() sourcePath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sourcePath
+   * @return A modified copy of the {@code this} object
+   */
+  public final CopyInXcode withSourcePath(Path value) {
+    if (this.sourcePath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "sourcePath");
+    return new CopyInXcode(this, this.sourceType, newValue, this.destinationBase, this.destinationPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCopyInXcode#getDestinationBase() destinationBase} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for destinationBase
+   * @return A modified copy of the {@code this} object
+   */
+  public final CopyInXcode withDestinationBase(AbstractCopyInXcode.DestinationBase value) {
+    if (this.destinationBase == value) return this;
+    AbstractCopyInXcode.DestinationBase newValue = Objects.requireNonNull(value, "destinationBase");
+    return new CopyInXcode(this, this.sourceType, this.sourcePath, newValue, this.destinationPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCopyInXcode#getDestinationPath() destinationPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for destinationPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final CopyInXcode withDestinationPath(Path value) {
+    if (this.destinationPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "destinationPath");
+    return new CopyInXcode(this, this.sourceType, this.sourcePath, this.destinationBase, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CopyInXcode} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CopyInXcode
+        && equalTo((CopyInXcode) another);
+  }
+
+  private boolean equalTo(CopyInXcode another) {
+    return sourceType.equals(another.sourceType)
+        && sourcePath.equals(another.sourcePath)
+        && destinationBase.equals(another.destinationBase)
+        && destinationPath.equals(another.destinationPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sourceType}, {@code sourcePath}, {@code destinationBase}, {@code destinationPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + sourceType.hashCode();
+    h += (h << 5) + sourcePath.hashCode();
+    h += (h << 5) + destinationBase.hashCode();
+    h += (h << 5) + destinationPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CopyInXcode} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CopyInXcode")
+        .omitNullValues()
+        .add("sourceType", sourceType)
+        .add("sourcePath", sourcePath)
+        .add("destinationBase", destinationBase)
+        .add("destinationPath", destinationPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CopyInXcode} instance.
+   * @param sourceType The value for the {@code sourceType} attribute
+   * @param sourcePath The value for the {@code sourcePath} attribute
+   * @param destinationBase The value for the {@code destinationBase} attribute
+   * @param destinationPath The value for the {@code destinationPath} attribute
+   * @return An immutable CopyInXcode instance
+   */
+  public static CopyInXcode of(AbstractCopyInXcode.SourceType sourceType, Path sourcePath, AbstractCopyInXcode.DestinationBase destinationBase, Path destinationPath) {
+    return new CopyInXcode(sourceType, sourcePath, destinationBase, destinationPath);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCopyInXcode} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CopyInXcode instance
+   */
+  static CopyInXcode copyOf(AbstractCopyInXcode instance) {
+    if (instance instanceof CopyInXcode) {
+      return (CopyInXcode) instance;
+    }
+    return CopyInXcode.of(instance.getSourceType(), instance.getSourcePath(), instance.getDestinationBase(), instance.getDestinationPath());
+  }
+}
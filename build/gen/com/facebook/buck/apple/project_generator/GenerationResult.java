@@ -0,0 +1,374 @@
+package com.facebook.buck.apple.project_generator;
+
+import com.facebook.buck.apple.xcode.xcodeproj.PBXTarget;
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractGenerationResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code GenerationResult.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractGenerationResult"})
+@Immutable
+public final class GenerationResult extends AbstractGenerationResult {
+  private final Path projectPath;
+  private final boolean projectGenerated;
+  private final ImmutableSet<BuildTarget> requiredBuildTargets;
+  private final ImmutableSet<Path> xcconfigPaths;
+  private final ImmutableList<CopyInXcode> filesToCopyInXcode;
+  private final ImmutableMap<BuildTarget, PBXTarget> buildTargetToGeneratedTargetMap;
+
+  private GenerationResult(
+      Path projectPath,
+      boolean projectGenerated,
+      Iterable<? extends BuildTarget> requiredBuildTargets,
+      Iterable<? extends Path> xcconfigPaths,
+      Iterable<? extends CopyInXcode> filesToCopyInXcode,
+      Map<? extends BuildTarget, ? extends PBXTarget> buildTargetToGeneratedTargetMap) {
+    this.projectPath = Objects.requireNonNull(projectPath, "projectPath");
+    this.projectGenerated = projectGenerated;
+    this.requiredBuildTargets = ImmutableSet.copyOf(requiredBuildTargets);
+    this.xcconfigPaths = ImmutableSet.copyOf(xcconfigPaths);
+    this.filesToCopyInXcode = ImmutableList.copyOf(filesToCopyInXcode);
+    this.buildTargetToGeneratedTargetMap = ImmutableMap.copyOf(buildTargetToGeneratedTargetMap);
+  }
+
+  private GenerationResult(
+      GenerationResult original,
+      Path projectPath,
+      boolean projectGenerated,
+      ImmutableSet<BuildTarget> requiredBuildTargets,
+      ImmutableSet<Path> xcconfigPaths,
+      ImmutableList<CopyInXcode> filesToCopyInXcode,
+      ImmutableMap<BuildTarget, PBXTarget> buildTargetToGeneratedTargetMap) {
+    this.projectPath = projectPath;
+    this.projectGenerated = projectGenerated;
+    this.requiredBuildTargets = requiredBuildTargets;
+    this.xcconfigPaths = xcconfigPaths;
+    this.filesToCopyInXcode = filesToCopyInXcode;
+    this.buildTargetToGeneratedTargetMap = buildTargetToGeneratedTargetMap;
+  }
+
+  /**
+   * @return The value of the {@code projectPath} attribute
+   */
+  @Override
+  public Path getProjectPath() {
+    return projectPath;
+  }
+
+  /**
+   * @return The value of the {@code projectGenerated} attribute
+   */
+  @Override
+  public boolean isProjectGenerated() {
+    return projectGenerated;
+  }
+
+  /**
+   * @return The value of the {@code requiredBuildTargets} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getRequiredBuildTargets() {
+    return requiredBuildTargets;
+  }
+
+  /**
+   * @return The value of the {@code xcconfigPaths} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getXcconfigPaths() {
+    return xcconfigPaths;
+  }
+
+  /**
+   * @return The value of the {@code filesToCopyInXcode} attribute
+   */
+  @Override
+  public ImmutableList<CopyInXcode> getFilesToCopyInXcode() {
+    return filesToCopyInXcode;
+  }
+
+  /**
+   * @return The value of the {@code buildTargetToGeneratedTargetMap} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, PBXTarget> getBuildTargetToGeneratedTargetMap() {
+    return buildTargetToGeneratedTargetMap;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractGenerationResult#getProjectPath() projectPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final GenerationResult withProjectPath(Path value) {
+    if (this.projectPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "projectPath");
+    return new GenerationResult(
+        this,
+        newValue,
+        this.projectGenerated,
+        this.requiredBuildTargets,
+        this.xcconfigPaths,
+        this.filesToCopyInXcode,
+        this.buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractGenerationResult#isProjectGenerated() projectGenerated} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectGenerated
+   * @return A modified copy of the {@code this} object
+   */
+  public final GenerationResult withProjectGenerated(boolean value) {
+    if (this.projectGenerated == value) return this;
+    return new GenerationResult(
+        this,
+        this.projectPath,
+        value,
+        this.requiredBuildTargets,
+        this.xcconfigPaths,
+        this.filesToCopyInXcode,
+        this.buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractGenerationResult#getRequiredBuildTargets() requiredBuildTargets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenerationResult withRequiredBuildTargets(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new GenerationResult(
+        this,
+        this.projectPath,
+        this.projectGenerated,
+        newValue,
+        this.xcconfigPaths,
+        this.filesToCopyInXcode,
+        this.buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractGenerationResult#getRequiredBuildTargets() requiredBuildTargets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of requiredBuildTargets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenerationResult withRequiredBuildTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.requiredBuildTargets == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new GenerationResult(
+        this,
+        this.projectPath,
+        this.projectGenerated,
+        newValue,
+        this.xcconfigPaths,
+        this.filesToCopyInXcode,
+        this.buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractGenerationResult#getXcconfigPaths() xcconfigPaths}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenerationResult withXcconfigPaths(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new GenerationResult(
+        this,
+        this.projectPath,
+        this.projectGenerated,
+        this.requiredBuildTargets,
+        newValue,
+        this.filesToCopyInXcode,
+        this.buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractGenerationResult#getXcconfigPaths() xcconfigPaths}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of xcconfigPaths elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenerationResult withXcconfigPaths(Iterable<? extends Path> elements) {
+    if (this.xcconfigPaths == elements) return this;
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new GenerationResult(
+        this,
+        this.projectPath,
+        this.projectGenerated,
+        this.requiredBuildTargets,
+        newValue,
+        this.filesToCopyInXcode,
+        this.buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractGenerationResult#getFilesToCopyInXcode() filesToCopyInXcode}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenerationResult withFilesToCopyInXcode(CopyInXcode... elements) {
+    ImmutableList<CopyInXcode> newValue = ImmutableList.copyOf(elements);
+    return new GenerationResult(
+        this,
+        this.projectPath,
+        this.projectGenerated,
+        this.requiredBuildTargets,
+        this.xcconfigPaths,
+        newValue,
+        this.buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractGenerationResult#getFilesToCopyInXcode() filesToCopyInXcode}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of filesToCopyInXcode elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenerationResult withFilesToCopyInXcode(Iterable<? extends CopyInXcode> elements) {
+    if (this.filesToCopyInXcode == elements) return this;
+    ImmutableList<CopyInXcode> newValue = ImmutableList.copyOf(elements);
+    return new GenerationResult(
+        this,
+        this.projectPath,
+        this.projectGenerated,
+        this.requiredBuildTargets,
+        this.xcconfigPaths,
+        newValue,
+        this.buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractGenerationResult#getBuildTargetToGeneratedTargetMap() buildTargetToGeneratedTargetMap} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the buildTargetToGeneratedTargetMap map
+   * @return A modified copy of {@code this} object
+   */
+  public final GenerationResult withBuildTargetToGeneratedTargetMap(Map<? extends BuildTarget, ? extends PBXTarget> entries) {
+    if (this.buildTargetToGeneratedTargetMap == entries) return this;
+    ImmutableMap<BuildTarget, PBXTarget> newValue = ImmutableMap.copyOf(entries);
+    return new GenerationResult(
+        this,
+        this.projectPath,
+        this.projectGenerated,
+        this.requiredBuildTargets,
+        this.xcconfigPaths,
+        this.filesToCopyInXcode,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code GenerationResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof GenerationResult
+        && equalTo((GenerationResult) another);
+  }
+
+  private boolean equalTo(GenerationResult another) {
+    return projectPath.equals(another.projectPath)
+        && projectGenerated == another.projectGenerated
+        && requiredBuildTargets.equals(another.requiredBuildTargets)
+        && xcconfigPaths.equals(another.xcconfigPaths)
+        && filesToCopyInXcode.equals(another.filesToCopyInXcode)
+        && buildTargetToGeneratedTargetMap.equals(another.buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code projectPath}, {@code projectGenerated}, {@code requiredBuildTargets}, {@code xcconfigPaths}, {@code filesToCopyInXcode}, {@code buildTargetToGeneratedTargetMap}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + projectPath.hashCode();
+    h += (h << 5) + Booleans.hashCode(projectGenerated);
+    h += (h << 5) + requiredBuildTargets.hashCode();
+    h += (h << 5) + xcconfigPaths.hashCode();
+    h += (h << 5) + filesToCopyInXcode.hashCode();
+    h += (h << 5) + buildTargetToGeneratedTargetMap.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GenerationResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GenerationResult")
+        .omitNullValues()
+        .add("projectPath", projectPath)
+        .add("projectGenerated", projectGenerated)
+        .add("requiredBuildTargets", requiredBuildTargets)
+        .add("xcconfigPaths", xcconfigPaths)
+        .add("filesToCopyInXcode", filesToCopyInXcode)
+        .add("buildTargetToGeneratedTargetMap", buildTargetToGeneratedTargetMap)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code GenerationResult} instance.
+   * @param projectPath The value for the {@code projectPath} attribute
+   * @param projectGenerated The value for the {@code projectGenerated} attribute
+   * @param requiredBuildTargets The value for the {@code requiredBuildTargets} attribute
+   * @param xcconfigPaths The value for the {@code xcconfigPaths} attribute
+   * @param filesToCopyInXcode The value for the {@code filesToCopyInXcode} attribute
+   * @param buildTargetToGeneratedTargetMap The value for the {@code buildTargetToGeneratedTargetMap} attribute
+   * @return An immutable GenerationResult instance
+   */
+  public static GenerationResult of(Path projectPath, boolean projectGenerated, ImmutableSet<BuildTarget> requiredBuildTargets, ImmutableSet<Path> xcconfigPaths, ImmutableList<CopyInXcode> filesToCopyInXcode, ImmutableMap<BuildTarget, PBXTarget> buildTargetToGeneratedTargetMap) {
+    return of(projectPath, projectGenerated, (Iterable<? extends BuildTarget>) requiredBuildTargets, (Iterable<? extends Path>) xcconfigPaths, (Iterable<? extends CopyInXcode>) filesToCopyInXcode, buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Construct a new immutable {@code GenerationResult} instance.
+   * @param projectPath The value for the {@code projectPath} attribute
+   * @param projectGenerated The value for the {@code projectGenerated} attribute
+   * @param requiredBuildTargets The value for the {@code requiredBuildTargets} attribute
+   * @param xcconfigPaths The value for the {@code xcconfigPaths} attribute
+   * @param filesToCopyInXcode The value for the {@code filesToCopyInXcode} attribute
+   * @param buildTargetToGeneratedTargetMap The value for the {@code buildTargetToGeneratedTargetMap} attribute
+   * @return An immutable GenerationResult instance
+   */
+  public static GenerationResult of(Path projectPath, boolean projectGenerated, Iterable<? extends BuildTarget> requiredBuildTargets, Iterable<? extends Path> xcconfigPaths, Iterable<? extends CopyInXcode> filesToCopyInXcode, Map<? extends BuildTarget, ? extends PBXTarget> buildTargetToGeneratedTargetMap) {
+    return new GenerationResult(projectPath, projectGenerated, requiredBuildTargets, xcconfigPaths, filesToCopyInXcode, buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractGenerationResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable GenerationResult instance
+   */
+  static GenerationResult copyOf(AbstractGenerationResult instance) {
+    if (instance instanceof GenerationResult) {
+      return (GenerationResult) instance;
+    }
+    return GenerationResult.of(instance.getProjectPath(), instance.isProjectGenerated(), instance.getRequiredBuildTargets(), instance.getXcconfigPaths(), instance.getFilesToCopyInXcode(), instance.getBuildTargetToGeneratedTargetMap());
+  }
+}
@@ -0,0 +1,1594 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.facebook.buck.cxx.toolchain.CxxPlatform;
+import com.facebook.buck.rules.Tool;
+import com.facebook.buck.rules.ToolProvider;
+import com.facebook.buck.swift.toolchain.SwiftPlatform;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Adds Apple-specific tools to {@link CxxPlatform}. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleCxxPlatform"})
+@Immutable
+public final class AppleCxxPlatform extends AbstractAppleCxxPlatform {
+  private final CxxPlatform cxxPlatform;
+  private final @Nullable SwiftPlatform swiftPlatform;
+  private final AppleSdk appleSdk;
+  private final AppleSdkPaths appleSdkPaths;
+  private final @Nullable String buildVersion;
+  private final String minVersion;
+  private final Tool actool;
+  private final Tool ibtool;
+  private final Tool momc;
+  private final @Nullable Tool copySceneKitAssets;
+  private final Tool xctest;
+  private final Tool dsymutil;
+  private final Tool lipo;
+  private final @Nullable Path stubBinary;
+  private final Tool lldb;
+  private final ToolProvider codesignProvider;
+  private final @Nullable Tool codesignAllocate;
+  private final @Nullable String xcodeVersion;
+  private final @Nullable String xcodeBuildVersion;
+
+  private AppleCxxPlatform(
+      CxxPlatform cxxPlatform,
+      @Nullable SwiftPlatform swiftPlatform,
+      AppleSdk appleSdk,
+      AppleSdkPaths appleSdkPaths,
+      @Nullable String buildVersion,
+      String minVersion,
+      Tool actool,
+      Tool ibtool,
+      Tool momc,
+      @Nullable Tool copySceneKitAssets,
+      Tool xctest,
+      Tool dsymutil,
+      Tool lipo,
+      @Nullable Path stubBinary,
+      Tool lldb,
+      ToolProvider codesignProvider,
+      @Nullable Tool codesignAllocate,
+      @Nullable String xcodeVersion,
+      @Nullable String xcodeBuildVersion) {
+    this.cxxPlatform = cxxPlatform;
+    this.swiftPlatform = swiftPlatform;
+    this.appleSdk = appleSdk;
+    this.appleSdkPaths = appleSdkPaths;
+    this.buildVersion = buildVersion;
+    this.minVersion = minVersion;
+    this.actool = actool;
+    this.ibtool = ibtool;
+    this.momc = momc;
+    this.copySceneKitAssets = copySceneKitAssets;
+    this.xctest = xctest;
+    this.dsymutil = dsymutil;
+    this.lipo = lipo;
+    this.stubBinary = stubBinary;
+    this.lldb = lldb;
+    this.codesignProvider = codesignProvider;
+    this.codesignAllocate = codesignAllocate;
+    this.xcodeVersion = xcodeVersion;
+    this.xcodeBuildVersion = xcodeBuildVersion;
+  }
+
+  /**
+   * @return The value of the {@code cxxPlatform} attribute
+   */
+  @Override
+  public CxxPlatform getCxxPlatform() {
+    return cxxPlatform;
+  }
+
+  /**
+   * @return The value of the {@code swiftPlatform} attribute
+   */
+  @Override
+  public Optional<SwiftPlatform> getSwiftPlatform() {
+    return Optional.ofNullable(swiftPlatform);
+  }
+
+  /**
+   * @return The value of the {@code appleSdk} attribute
+   */
+  @Override
+  public AppleSdk getAppleSdk() {
+    return appleSdk;
+  }
+
+  /**
+   * @return The value of the {@code appleSdkPaths} attribute
+   */
+  @Override
+  public AppleSdkPaths getAppleSdkPaths() {
+    return appleSdkPaths;
+  }
+
+  /**
+   * @return The value of the {@code buildVersion} attribute
+   */
+  @Override
+  public Optional<String> getBuildVersion() {
+    return Optional.ofNullable(buildVersion);
+  }
+
+  /**
+   * @return The value of the {@code minVersion} attribute
+   */
+  @Override
+  public String getMinVersion() {
+    return minVersion;
+  }
+
+  /**
+   * @return The value of the {@code actool} attribute
+   */
+  @Override
+  public Tool getActool() {
+    return actool;
+  }
+
+  /**
+   * @return The value of the {@code ibtool} attribute
+   */
+  @Override
+  public Tool getIbtool() {
+    return ibtool;
+  }
+
+  /**
+   * @return The value of the {@code momc} attribute
+   */
+  @Override
+  public Tool getMomc() {
+    return momc;
+  }
+
+  /**
+   * @return The value of the {@code copySceneKitAssets} attribute
+   */
+  @Override
+  public Optional<Tool> getCopySceneKitAssets() {
+    return Optional.ofNullable(copySceneKitAssets);
+  }
+
+  /**
+   * @return The value of the {@code xctest} attribute
+   */
+  @Override
+  public Tool getXctest() {
+    return xctest;
+  }
+
+  /**
+   * @return The value of the {@code dsymutil} attribute
+   */
+  @Override
+  public Tool getDsymutil() {
+    return dsymutil;
+  }
+
+  /**
+   * @return The value of the {@code lipo} attribute
+   */
+  @Override
+  public Tool getLipo() {
+    return lipo;
+  }
+
+  /**
+   * @return The value of the {@code stubBinary} attribute
+   */
+  @Override
+  public Optional<Path> getStubBinary() {
+    return Optional.ofNullable(stubBinary);
+  }
+
+  /**
+   * @return The value of the {@code lldb} attribute
+   */
+  @Override
+  public Tool getLldb() {
+    return lldb;
+  }
+
+  /**
+   * @return The value of the {@code codesignProvider} attribute
+   */
+  @Override
+  public ToolProvider getCodesignProvider() {
+    return codesignProvider;
+  }
+
+  /**
+   * @return The value of the {@code codesignAllocate} attribute
+   */
+  @Override
+  public Optional<Tool> getCodesignAllocate() {
+    return Optional.ofNullable(codesignAllocate);
+  }
+
+  /**
+   * @return The value of the {@code xcodeVersion} attribute
+   */
+  @Override
+  public Optional<String> getXcodeVersion() {
+    return Optional.ofNullable(xcodeVersion);
+  }
+
+  /**
+   * @return The value of the {@code xcodeBuildVersion} attribute
+   */
+  @Override
+  public Optional<String> getXcodeBuildVersion() {
+    return Optional.ofNullable(xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleCxxPlatform#getCxxPlatform() cxxPlatform} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cxxPlatform
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withCxxPlatform(CxxPlatform value) {
+    if (this.cxxPlatform == value) return this;
+    CxxPlatform newValue = Objects.requireNonNull(value, "cxxPlatform");
+    return new AppleCxxPlatform(
+        newValue,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAppleCxxPlatform#getSwiftPlatform() swiftPlatform} attribute.
+   * @param value The value for swiftPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withSwiftPlatform(SwiftPlatform value) {
+    @Nullable SwiftPlatform newValue = Objects.requireNonNull(value, "swiftPlatform");
+    if (this.swiftPlatform == newValue) return this;
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        newValue,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAppleCxxPlatform#getSwiftPlatform() swiftPlatform} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for swiftPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withSwiftPlatform(Optional<? extends SwiftPlatform> optional) {
+    @Nullable SwiftPlatform value = optional.orElse(null);
+    if (this.swiftPlatform == value) return this;
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        value,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleCxxPlatform#getAppleSdk() appleSdk} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for appleSdk
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withAppleSdk(AppleSdk value) {
+    if (this.appleSdk == value) return this;
+    AppleSdk newValue = Objects.requireNonNull(value, "appleSdk");
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        newValue,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleCxxPlatform#getAppleSdkPaths() appleSdkPaths} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for appleSdkPaths
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withAppleSdkPaths(AppleSdkPaths value) {
+    if (this.appleSdkPaths == value) return this;
+    AppleSdkPaths newValue = Objects.requireNonNull(value, "appleSdkPaths");
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        newValue,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAppleCxxPlatform#getBuildVersion() buildVersion} attribute.
+   * @param value The value for buildVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withBuildVersion(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "buildVersion");
+    if (Objects.equals(this.buildVersion, newValue)) return this;
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        newValue,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAppleCxxPlatform#getBuildVersion() buildVersion} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for buildVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withBuildVersion(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.buildVersion, value)) return this;
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        value,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleCxxPlatform#getMinVersion() minVersion} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for minVersion
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withMinVersion(String value) {
+    if (this.minVersion.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "minVersion");
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        newValue,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleCxxPlatform#getActool() actool} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for actool
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withActool(Tool value) {
+    if (this.actool == value) return this;
+    Tool newValue = Objects.requireNonNull(value, "actool");
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        newValue,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleCxxPlatform#getIbtool() ibtool} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ibtool
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withIbtool(Tool value) {
+    if (this.ibtool == value) return this;
+    Tool newValue = Objects.requireNonNull(value, "ibtool");
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        newValue,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleCxxPlatform#getMomc() momc} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for momc
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withMomc(Tool value) {
+    if (this.momc == value) return this;
+    Tool newValue = Objects.requireNonNull(value, "momc");
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        newValue,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAppleCxxPlatform#getCopySceneKitAssets() copySceneKitAssets} attribute.
+   * @param value The value for copySceneKitAssets
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withCopySceneKitAssets(Tool value) {
+    @Nullable Tool newValue = Objects.requireNonNull(value, "copySceneKitAssets");
+    if (this.copySceneKitAssets == newValue) return this;
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        newValue,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAppleCxxPlatform#getCopySceneKitAssets() copySceneKitAssets} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for copySceneKitAssets
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withCopySceneKitAssets(Optional<? extends Tool> optional) {
+    @Nullable Tool value = optional.orElse(null);
+    if (this.copySceneKitAssets == value) return this;
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        value,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleCxxPlatform#getXctest() xctest} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for xctest
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withXctest(Tool value) {
+    if (this.xctest == value) return this;
+    Tool newValue = Objects.requireNonNull(value, "xctest");
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        newValue,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleCxxPlatform#getDsymutil() dsymutil} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for dsymutil
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withDsymutil(Tool value) {
+    if (this.dsymutil == value) return this;
+    Tool newValue = Objects.requireNonNull(value, "dsymutil");
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        newValue,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleCxxPlatform#getLipo() lipo} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for lipo
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withLipo(Tool value) {
+    if (this.lipo == value) return this;
+    Tool newValue = Objects.requireNonNull(value, "lipo");
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        newValue,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAppleCxxPlatform#getStubBinary() stubBinary} attribute.
+   * @param value The value for stubBinary
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withStubBinary(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "stubBinary");
+    if (this.stubBinary == newValue) return this;
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        newValue,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAppleCxxPlatform#getStubBinary() stubBinary} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for stubBinary
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withStubBinary(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.stubBinary == value) return this;
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        value,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleCxxPlatform#getLldb() lldb} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for lldb
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withLldb(Tool value) {
+    if (this.lldb == value) return this;
+    Tool newValue = Objects.requireNonNull(value, "lldb");
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        newValue,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleCxxPlatform#getCodesignProvider() codesignProvider} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for codesignProvider
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withCodesignProvider(ToolProvider value) {
+    if (this.codesignProvider == value) return this;
+    ToolProvider newValue = Objects.requireNonNull(value, "codesignProvider");
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        newValue,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAppleCxxPlatform#getCodesignAllocate() codesignAllocate} attribute.
+   * @param value The value for codesignAllocate
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withCodesignAllocate(Tool value) {
+    @Nullable Tool newValue = Objects.requireNonNull(value, "codesignAllocate");
+    if (this.codesignAllocate == newValue) return this;
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        newValue,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAppleCxxPlatform#getCodesignAllocate() codesignAllocate} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for codesignAllocate
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withCodesignAllocate(Optional<? extends Tool> optional) {
+    @Nullable Tool value = optional.orElse(null);
+    if (this.codesignAllocate == value) return this;
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        value,
+        this.xcodeVersion,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAppleCxxPlatform#getXcodeVersion() xcodeVersion} attribute.
+   * @param value The value for xcodeVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withXcodeVersion(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "xcodeVersion");
+    if (Objects.equals(this.xcodeVersion, newValue)) return this;
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        newValue,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAppleCxxPlatform#getXcodeVersion() xcodeVersion} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for xcodeVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withXcodeVersion(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.xcodeVersion, value)) return this;
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        value,
+        this.xcodeBuildVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAppleCxxPlatform#getXcodeBuildVersion() xcodeBuildVersion} attribute.
+   * @param value The value for xcodeBuildVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withXcodeBuildVersion(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "xcodeBuildVersion");
+    if (Objects.equals(this.xcodeBuildVersion, newValue)) return this;
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAppleCxxPlatform#getXcodeBuildVersion() xcodeBuildVersion} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for xcodeBuildVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withXcodeBuildVersion(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.xcodeBuildVersion, value)) return this;
+    return new AppleCxxPlatform(
+        this.cxxPlatform,
+        this.swiftPlatform,
+        this.appleSdk,
+        this.appleSdkPaths,
+        this.buildVersion,
+        this.minVersion,
+        this.actool,
+        this.ibtool,
+        this.momc,
+        this.copySceneKitAssets,
+        this.xctest,
+        this.dsymutil,
+        this.lipo,
+        this.stubBinary,
+        this.lldb,
+        this.codesignProvider,
+        this.codesignAllocate,
+        this.xcodeVersion,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleCxxPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleCxxPlatform
+        && equalTo((AppleCxxPlatform) another);
+  }
+
+  private boolean equalTo(AppleCxxPlatform another) {
+    return cxxPlatform.equals(another.cxxPlatform)
+        && Objects.equals(swiftPlatform, another.swiftPlatform)
+        && appleSdk.equals(another.appleSdk)
+        && appleSdkPaths.equals(another.appleSdkPaths)
+        && Objects.equals(buildVersion, another.buildVersion)
+        && minVersion.equals(another.minVersion)
+        && actool.equals(another.actool)
+        && ibtool.equals(another.ibtool)
+        && momc.equals(another.momc)
+        && Objects.equals(copySceneKitAssets, another.copySceneKitAssets)
+        && xctest.equals(another.xctest)
+        && dsymutil.equals(another.dsymutil)
+        && lipo.equals(another.lipo)
+        && Objects.equals(stubBinary, another.stubBinary)
+        && lldb.equals(another.lldb)
+        && codesignProvider.equals(another.codesignProvider)
+        && Objects.equals(codesignAllocate, another.codesignAllocate)
+        && Objects.equals(xcodeVersion, another.xcodeVersion)
+        && Objects.equals(xcodeBuildVersion, another.xcodeBuildVersion);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cxxPlatform}, {@code swiftPlatform}, {@code appleSdk}, {@code appleSdkPaths}, {@code buildVersion}, {@code minVersion}, {@code actool}, {@code ibtool}, {@code momc}, {@code copySceneKitAssets}, {@code xctest}, {@code dsymutil}, {@code lipo}, {@code stubBinary}, {@code lldb}, {@code codesignProvider}, {@code codesignAllocate}, {@code xcodeVersion}, {@code xcodeBuildVersion}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + cxxPlatform.hashCode();
+    h += (h << 5) + Objects.hashCode(swiftPlatform);
+    h += (h << 5) + appleSdk.hashCode();
+    h += (h << 5) + appleSdkPaths.hashCode();
+    h += (h << 5) + Objects.hashCode(buildVersion);
+    h += (h << 5) + minVersion.hashCode();
+    h += (h << 5) + actool.hashCode();
+    h += (h << 5) + ibtool.hashCode();
+    h += (h << 5) + momc.hashCode();
+    h += (h << 5) + Objects.hashCode(copySceneKitAssets);
+    h += (h << 5) + xctest.hashCode();
+    h += (h << 5) + dsymutil.hashCode();
+    h += (h << 5) + lipo.hashCode();
+    h += (h << 5) + Objects.hashCode(stubBinary);
+    h += (h << 5) + lldb.hashCode();
+    h += (h << 5) + codesignProvider.hashCode();
+    h += (h << 5) + Objects.hashCode(codesignAllocate);
+    h += (h << 5) + Objects.hashCode(xcodeVersion);
+    h += (h << 5) + Objects.hashCode(xcodeBuildVersion);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleCxxPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleCxxPlatform")
+        .omitNullValues()
+        .add("cxxPlatform", cxxPlatform)
+        .add("swiftPlatform", swiftPlatform)
+        .add("appleSdk", appleSdk)
+        .add("appleSdkPaths", appleSdkPaths)
+        .add("buildVersion", buildVersion)
+        .add("minVersion", minVersion)
+        .add("actool", actool)
+        .add("ibtool", ibtool)
+        .add("momc", momc)
+        .add("copySceneKitAssets", copySceneKitAssets)
+        .add("xctest", xctest)
+        .add("dsymutil", dsymutil)
+        .add("lipo", lipo)
+        .add("stubBinary", stubBinary)
+        .add("lldb", lldb)
+        .add("codesignProvider", codesignProvider)
+        .add("codesignAllocate", codesignAllocate)
+        .add("xcodeVersion", xcodeVersion)
+        .add("xcodeBuildVersion", xcodeBuildVersion)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAppleCxxPlatform} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AppleCxxPlatform instance
+   */
+  static AppleCxxPlatform copyOf(AbstractAppleCxxPlatform instance) {
+    if (instance instanceof AppleCxxPlatform) {
+      return (AppleCxxPlatform) instance;
+    }
+    return AppleCxxPlatform.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AppleCxxPlatform AppleCxxPlatform}.
+   * @return A new AppleCxxPlatform builder
+   */
+  public static AppleCxxPlatform.Builder builder() {
+    return new AppleCxxPlatform.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleCxxPlatform AppleCxxPlatform}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CXX_PLATFORM = 0x1L;
+    private static final long INIT_BIT_APPLE_SDK = 0x2L;
+    private static final long INIT_BIT_APPLE_SDK_PATHS = 0x4L;
+    private static final long INIT_BIT_MIN_VERSION = 0x8L;
+    private static final long INIT_BIT_ACTOOL = 0x10L;
+    private static final long INIT_BIT_IBTOOL = 0x20L;
+    private static final long INIT_BIT_MOMC = 0x40L;
+    private static final long INIT_BIT_XCTEST = 0x80L;
+    private static final long INIT_BIT_DSYMUTIL = 0x100L;
+    private static final long INIT_BIT_LIPO = 0x200L;
+    private static final long INIT_BIT_LLDB = 0x400L;
+    private static final long INIT_BIT_CODESIGN_PROVIDER = 0x800L;
+    private long initBits = 0xfffL;
+
+    private @Nullable CxxPlatform cxxPlatform;
+    private @Nullable SwiftPlatform swiftPlatform;
+    private @Nullable AppleSdk appleSdk;
+    private @Nullable AppleSdkPaths appleSdkPaths;
+    private @Nullable String buildVersion;
+    private @Nullable String minVersion;
+    private @Nullable Tool actool;
+    private @Nullable Tool ibtool;
+    private @Nullable Tool momc;
+    private @Nullable Tool copySceneKitAssets;
+    private @Nullable Tool xctest;
+    private @Nullable Tool dsymutil;
+    private @Nullable Tool lipo;
+    private @Nullable Path stubBinary;
+    private @Nullable Tool lldb;
+    private @Nullable ToolProvider codesignProvider;
+    private @Nullable Tool codesignAllocate;
+    private @Nullable String xcodeVersion;
+    private @Nullable String xcodeBuildVersion;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleCxxPlatform} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AppleCxxPlatform instance) {
+      return from((AbstractAppleCxxPlatform) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleCxxPlatform} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractAppleCxxPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCxxPlatform(instance.getCxxPlatform());
+      Optional<SwiftPlatform> swiftPlatformOptional = instance.getSwiftPlatform();
+      if (swiftPlatformOptional.isPresent()) {
+        setSwiftPlatform(swiftPlatformOptional);
+      }
+      setAppleSdk(instance.getAppleSdk());
+      setAppleSdkPaths(instance.getAppleSdkPaths());
+      Optional<String> buildVersionOptional = instance.getBuildVersion();
+      if (buildVersionOptional.isPresent()) {
+        setBuildVersion(buildVersionOptional);
+      }
+      setMinVersion(instance.getMinVersion());
+      setActool(instance.getActool());
+      setIbtool(instance.getIbtool());
+      setMomc(instance.getMomc());
+      Optional<Tool> copySceneKitAssetsOptional = instance.getCopySceneKitAssets();
+      if (copySceneKitAssetsOptional.isPresent()) {
+        setCopySceneKitAssets(copySceneKitAssetsOptional);
+      }
+      setXctest(instance.getXctest());
+      setDsymutil(instance.getDsymutil());
+      setLipo(instance.getLipo());
+      Optional<Path> stubBinaryOptional = instance.getStubBinary();
+      if (stubBinaryOptional.isPresent()) {
+        setStubBinary(stubBinaryOptional);
+      }
+      setLldb(instance.getLldb());
+      setCodesignProvider(instance.getCodesignProvider());
+      Optional<Tool> codesignAllocateOptional = instance.getCodesignAllocate();
+      if (codesignAllocateOptional.isPresent()) {
+        setCodesignAllocate(codesignAllocateOptional);
+      }
+      Optional<String> xcodeVersionOptional = instance.getXcodeVersion();
+      if (xcodeVersionOptional.isPresent()) {
+        setXcodeVersion(xcodeVersionOptional);
+      }
+      Optional<String> xcodeBuildVersionOptional = instance.getXcodeBuildVersion();
+      if (xcodeBuildVersionOptional.isPresent()) {
+        setXcodeBuildVersion(xcodeBuildVersionOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAppleCxxPlatform#getCxxPlatform() cxxPlatform} attribute.
+     * @param cxxPlatform The value for cxxPlatform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxPlatform(CxxPlatform cxxPlatform) {
+      this.cxxPlatform = Objects.requireNonNull(cxxPlatform, "cxxPlatform");
+      initBits &= ~INIT_BIT_CXX_PLATFORM;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractAppleCxxPlatform#getSwiftPlatform() swiftPlatform} to swiftPlatform.
+     * @param swiftPlatform The value for swiftPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSwiftPlatform(SwiftPlatform swiftPlatform) {
+      this.swiftPlatform = Objects.requireNonNull(swiftPlatform, "swiftPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAppleCxxPlatform#getSwiftPlatform() swiftPlatform} to swiftPlatform.
+     * @param swiftPlatform The value for swiftPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSwiftPlatform(Optional<? extends SwiftPlatform> swiftPlatform) {
+      this.swiftPlatform = swiftPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAppleCxxPlatform#getAppleSdk() appleSdk} attribute.
+     * @param appleSdk The value for appleSdk 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAppleSdk(AppleSdk appleSdk) {
+      this.appleSdk = Objects.requireNonNull(appleSdk, "appleSdk");
+      initBits &= ~INIT_BIT_APPLE_SDK;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleCxxPlatform#getAppleSdkPaths() appleSdkPaths} attribute.
+     * @param appleSdkPaths The value for appleSdkPaths 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAppleSdkPaths(AppleSdkPaths appleSdkPaths) {
+      this.appleSdkPaths = Objects.requireNonNull(appleSdkPaths, "appleSdkPaths");
+      initBits &= ~INIT_BIT_APPLE_SDK_PATHS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractAppleCxxPlatform#getBuildVersion() buildVersion} to buildVersion.
+     * @param buildVersion The value for buildVersion
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildVersion(String buildVersion) {
+      this.buildVersion = Objects.requireNonNull(buildVersion, "buildVersion");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAppleCxxPlatform#getBuildVersion() buildVersion} to buildVersion.
+     * @param buildVersion The value for buildVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildVersion(Optional<String> buildVersion) {
+      this.buildVersion = buildVersion.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAppleCxxPlatform#getMinVersion() minVersion} attribute.
+     * @param minVersion The value for minVersion 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMinVersion(String minVersion) {
+      this.minVersion = Objects.requireNonNull(minVersion, "minVersion");
+      initBits &= ~INIT_BIT_MIN_VERSION;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleCxxPlatform#getActool() actool} attribute.
+     * @param actool The value for actool 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setActool(Tool actool) {
+      this.actool = Objects.requireNonNull(actool, "actool");
+      initBits &= ~INIT_BIT_ACTOOL;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleCxxPlatform#getIbtool() ibtool} attribute.
+     * @param ibtool The value for ibtool 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIbtool(Tool ibtool) {
+      this.ibtool = Objects.requireNonNull(ibtool, "ibtool");
+      initBits &= ~INIT_BIT_IBTOOL;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleCxxPlatform#getMomc() momc} attribute.
+     * @param momc The value for momc 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMomc(Tool momc) {
+      this.momc = Objects.requireNonNull(momc, "momc");
+      initBits &= ~INIT_BIT_MOMC;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractAppleCxxPlatform#getCopySceneKitAssets() copySceneKitAssets} to copySceneKitAssets.
+     * @param copySceneKitAssets The value for copySceneKitAssets
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCopySceneKitAssets(Tool copySceneKitAssets) {
+      this.copySceneKitAssets = Objects.requireNonNull(copySceneKitAssets, "copySceneKitAssets");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAppleCxxPlatform#getCopySceneKitAssets() copySceneKitAssets} to copySceneKitAssets.
+     * @param copySceneKitAssets The value for copySceneKitAssets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCopySceneKitAssets(Optional<? extends Tool> copySceneKitAssets) {
+      this.copySceneKitAssets = copySceneKitAssets.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAppleCxxPlatform#getXctest() xctest} attribute.
+     * @param xctest The value for xctest 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setXctest(Tool xctest) {
+      this.xctest = Objects.requireNonNull(xctest, "xctest");
+      initBits &= ~INIT_BIT_XCTEST;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleCxxPlatform#getDsymutil() dsymutil} attribute.
+     * @param dsymutil The value for dsymutil 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDsymutil(Tool dsymutil) {
+      this.dsymutil = Objects.requireNonNull(dsymutil, "dsymutil");
+      initBits &= ~INIT_BIT_DSYMUTIL;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleCxxPlatform#getLipo() lipo} attribute.
+     * @param lipo The value for lipo 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLipo(Tool lipo) {
+      this.lipo = Objects.requireNonNull(lipo, "lipo");
+      initBits &= ~INIT_BIT_LIPO;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractAppleCxxPlatform#getStubBinary() stubBinary} to stubBinary.
+     * @param stubBinary The value for stubBinary
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStubBinary(Path stubBinary) {
+      this.stubBinary = Objects.requireNonNull(stubBinary, "stubBinary");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAppleCxxPlatform#getStubBinary() stubBinary} to stubBinary.
+     * @param stubBinary The value for stubBinary
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStubBinary(Optional<? extends Path> stubBinary) {
+      this.stubBinary = stubBinary.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAppleCxxPlatform#getLldb() lldb} attribute.
+     * @param lldb The value for lldb 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLldb(Tool lldb) {
+      this.lldb = Objects.requireNonNull(lldb, "lldb");
+      initBits &= ~INIT_BIT_LLDB;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleCxxPlatform#getCodesignProvider() codesignProvider} attribute.
+     * @param codesignProvider The value for codesignProvider 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCodesignProvider(ToolProvider codesignProvider) {
+      this.codesignProvider = Objects.requireNonNull(codesignProvider, "codesignProvider");
+      initBits &= ~INIT_BIT_CODESIGN_PROVIDER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractAppleCxxPlatform#getCodesignAllocate() codesignAllocate} to codesignAllocate.
+     * @param codesignAllocate The value for codesignAllocate
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCodesignAllocate(Tool codesignAllocate) {
+      this.codesignAllocate = Objects.requireNonNull(codesignAllocate, "codesignAllocate");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAppleCxxPlatform#getCodesignAllocate() codesignAllocate} to codesignAllocate.
+     * @param codesignAllocate The value for codesignAllocate
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCodesignAllocate(Optional<? extends Tool> codesignAllocate) {
+      this.codesignAllocate = codesignAllocate.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAppleCxxPlatform#getXcodeVersion() xcodeVersion} to xcodeVersion.
+     * @param xcodeVersion The value for xcodeVersion
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setXcodeVersion(String xcodeVersion) {
+      this.xcodeVersion = Objects.requireNonNull(xcodeVersion, "xcodeVersion");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAppleCxxPlatform#getXcodeVersion() xcodeVersion} to xcodeVersion.
+     * @param xcodeVersion The value for xcodeVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setXcodeVersion(Optional<String> xcodeVersion) {
+      this.xcodeVersion = xcodeVersion.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAppleCxxPlatform#getXcodeBuildVersion() xcodeBuildVersion} to xcodeBuildVersion.
+     * @param xcodeBuildVersion The value for xcodeBuildVersion
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setXcodeBuildVersion(String xcodeBuildVersion) {
+      this.xcodeBuildVersion = Objects.requireNonNull(xcodeBuildVersion, "xcodeBuildVersion");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAppleCxxPlatform#getXcodeBuildVersion() xcodeBuildVersion} to xcodeBuildVersion.
+     * @param xcodeBuildVersion The value for xcodeBuildVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setXcodeBuildVersion(Optional<String> xcodeBuildVersion) {
+      this.xcodeBuildVersion = xcodeBuildVersion.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AppleCxxPlatform AppleCxxPlatform}.
+     * @return An immutable instance of AppleCxxPlatform
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleCxxPlatform build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AppleCxxPlatform(
+          cxxPlatform,
+          swiftPlatform,
+          appleSdk,
+          appleSdkPaths,
+          buildVersion,
+          minVersion,
+          actool,
+          ibtool,
+          momc,
+          copySceneKitAssets,
+          xctest,
+          dsymutil,
+          lipo,
+          stubBinary,
+          lldb,
+          codesignProvider,
+          codesignAllocate,
+          xcodeVersion,
+          xcodeBuildVersion);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CXX_PLATFORM) != 0) attributes.add("cxxPlatform");
+      if ((initBits & INIT_BIT_APPLE_SDK) != 0) attributes.add("appleSdk");
+      if ((initBits & INIT_BIT_APPLE_SDK_PATHS) != 0) attributes.add("appleSdkPaths");
+      if ((initBits & INIT_BIT_MIN_VERSION) != 0) attributes.add("minVersion");
+      if ((initBits & INIT_BIT_ACTOOL) != 0) attributes.add("actool");
+      if ((initBits & INIT_BIT_IBTOOL) != 0) attributes.add("ibtool");
+      if ((initBits & INIT_BIT_MOMC) != 0) attributes.add("momc");
+      if ((initBits & INIT_BIT_XCTEST) != 0) attributes.add("xctest");
+      if ((initBits & INIT_BIT_DSYMUTIL) != 0) attributes.add("dsymutil");
+      if ((initBits & INIT_BIT_LIPO) != 0) attributes.add("lipo");
+      if ((initBits & INIT_BIT_LLDB) != 0) attributes.add("lldb");
+      if ((initBits & INIT_BIT_CODESIGN_PROVIDER) != 0) attributes.add("codesignProvider");
+      return "Cannot build AppleCxxPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,424 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Metadata about an Apple SDK. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleSdk"})
+@Immutable
+public final class AppleSdk implements AbstractAppleSdk {
+  private final String name;
+  private final String version;
+  private final ApplePlatform applePlatform;
+  private final ImmutableSet<String> architectures;
+  private final ImmutableList<AppleToolchain> toolchains;
+
+  private AppleSdk(
+      String name,
+      String version,
+      ApplePlatform applePlatform,
+      ImmutableSet<String> architectures,
+      ImmutableList<AppleToolchain> toolchains) {
+    this.name = name;
+    this.version = version;
+    this.applePlatform = applePlatform;
+    this.architectures = architectures;
+    this.toolchains = toolchains;
+  }
+
+  /**
+   *The full name of the SDK. For example: {@code iphonesimulator8.0}. 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   *The version number of the SDK. For example: {@code 8.0}. 
+   */
+  @Override
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+   *The platform of the SDK. For example, {@code iphoneos}. 
+   */
+  @Override
+  public ApplePlatform getApplePlatform() {
+    return applePlatform;
+  }
+
+  /**
+   *The architectures supported by the SDK. For example: {@code [i386, x86_64]}. 
+   */
+  @Override
+  public ImmutableSet<String> getArchitectures() {
+    return architectures;
+  }
+
+  /**
+   * The toolchains used by the SDK. For example: {@code ["com.apple.dt.toolchain.XcodeDefault"]}
+   */
+  @Override
+  public ImmutableList<AppleToolchain> getToolchains() {
+    return toolchains;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleSdk#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleSdk withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new AppleSdk(newValue, this.version, this.applePlatform, this.architectures, this.toolchains);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleSdk#getVersion() version} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for version
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleSdk withVersion(String value) {
+    if (this.version.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "version");
+    return new AppleSdk(this.name, newValue, this.applePlatform, this.architectures, this.toolchains);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleSdk#getApplePlatform() applePlatform} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for applePlatform
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleSdk withApplePlatform(ApplePlatform value) {
+    if (this.applePlatform == value) return this;
+    ApplePlatform newValue = Objects.requireNonNull(value, "applePlatform");
+    return new AppleSdk(this.name, this.version, newValue, this.architectures, this.toolchains);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAppleSdk#getArchitectures() architectures}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleSdk withArchitectures(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new AppleSdk(this.name, this.version, this.applePlatform, newValue, this.toolchains);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAppleSdk#getArchitectures() architectures}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of architectures elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleSdk withArchitectures(Iterable<String> elements) {
+    if (this.architectures == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new AppleSdk(this.name, this.version, this.applePlatform, newValue, this.toolchains);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAppleSdk#getToolchains() toolchains}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleSdk withToolchains(AppleToolchain... elements) {
+    ImmutableList<AppleToolchain> newValue = ImmutableList.copyOf(elements);
+    return new AppleSdk(this.name, this.version, this.applePlatform, this.architectures, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAppleSdk#getToolchains() toolchains}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of toolchains elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleSdk withToolchains(Iterable<? extends AppleToolchain> elements) {
+    if (this.toolchains == elements) return this;
+    ImmutableList<AppleToolchain> newValue = ImmutableList.copyOf(elements);
+    return new AppleSdk(this.name, this.version, this.applePlatform, this.architectures, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleSdk} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleSdk
+        && equalTo((AppleSdk) another);
+  }
+
+  private boolean equalTo(AppleSdk another) {
+    return name.equals(another.name)
+        && version.equals(another.version)
+        && applePlatform.equals(another.applePlatform)
+        && architectures.equals(another.architectures)
+        && toolchains.equals(another.toolchains);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code version}, {@code applePlatform}, {@code architectures}, {@code toolchains}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + version.hashCode();
+    h += (h << 5) + applePlatform.hashCode();
+    h += (h << 5) + architectures.hashCode();
+    h += (h << 5) + toolchains.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleSdk} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleSdk")
+        .omitNullValues()
+        .add("name", name)
+        .add("version", version)
+        .add("applePlatform", applePlatform)
+        .add("architectures", architectures)
+        .add("toolchains", toolchains)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAppleSdk} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AppleSdk instance
+   */
+  static AppleSdk copyOf(AbstractAppleSdk instance) {
+    if (instance instanceof AppleSdk) {
+      return (AppleSdk) instance;
+    }
+    return AppleSdk.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AppleSdk AppleSdk}.
+   * @return A new AppleSdk builder
+   */
+  public static AppleSdk.Builder builder() {
+    return new AppleSdk.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleSdk AppleSdk}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long INIT_BIT_VERSION = 0x2L;
+    private static final long INIT_BIT_APPLE_PLATFORM = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable String name;
+    private @Nullable String version;
+    private @Nullable ApplePlatform applePlatform;
+    private ImmutableSet.Builder<String> architectures = ImmutableSet.builder();
+    private ImmutableList.Builder<AppleToolchain> toolchains = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleSdk} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AppleSdk instance) {
+      return from((AbstractAppleSdk) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleSdk} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractAppleSdk instance) {
+      Objects.requireNonNull(instance, "instance");
+      setName(instance.getName());
+      setVersion(instance.getVersion());
+      setApplePlatform(instance.getApplePlatform());
+      addAllArchitectures(instance.getArchitectures());
+      addAllToolchains(instance.getToolchains());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAppleSdk#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleSdk#getVersion() version} attribute.
+     * @param version The value for version 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersion(String version) {
+      this.version = Objects.requireNonNull(version, "version");
+      initBits &= ~INIT_BIT_VERSION;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleSdk#getApplePlatform() applePlatform} attribute.
+     * @param applePlatform The value for applePlatform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setApplePlatform(ApplePlatform applePlatform) {
+      this.applePlatform = Objects.requireNonNull(applePlatform, "applePlatform");
+      initBits &= ~INIT_BIT_APPLE_PLATFORM;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractAppleSdk#getArchitectures() architectures} set.
+     * @param element A architectures element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addArchitectures(String element) {
+      this.architectures.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSdk#getArchitectures() architectures} set.
+     * @param elements An array of architectures elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addArchitectures(String... elements) {
+      this.architectures.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleSdk#getArchitectures() architectures} set.
+     * @param elements An iterable of architectures elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setArchitectures(Iterable<String> elements) {
+      this.architectures = ImmutableSet.builder();
+      return addAllArchitectures(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSdk#getArchitectures() architectures} set.
+     * @param elements An iterable of architectures elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllArchitectures(Iterable<String> elements) {
+      this.architectures.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAppleSdk#getToolchains() toolchains} list.
+     * @param element A toolchains element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addToolchains(AppleToolchain element) {
+      this.toolchains.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSdk#getToolchains() toolchains} list.
+     * @param elements An array of toolchains elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addToolchains(AppleToolchain... elements) {
+      this.toolchains.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleSdk#getToolchains() toolchains} list.
+     * @param elements An iterable of toolchains elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setToolchains(Iterable<? extends AppleToolchain> elements) {
+      this.toolchains = ImmutableList.builder();
+      return addAllToolchains(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSdk#getToolchains() toolchains} list.
+     * @param elements An iterable of toolchains elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllToolchains(Iterable<? extends AppleToolchain> elements) {
+      this.toolchains.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AppleSdk AppleSdk}.
+     * @return An immutable instance of AppleSdk
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleSdk build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AppleSdk(name, version, applePlatform, architectures.build(), toolchains.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      if ((initBits & INIT_BIT_VERSION) != 0) attributes.add("version");
+      if ((initBits & INIT_BIT_APPLE_PLATFORM) != 0) attributes.add("applePlatform");
+      return "Cannot build AppleSdk, some of required attributes are not set " + attributes;
+    }
+  }
+}
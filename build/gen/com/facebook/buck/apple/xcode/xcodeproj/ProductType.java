@@ -0,0 +1,183 @@
+package com.facebook.buck.apple.xcode.xcodeproj;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractProductType}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ProductType.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code ProductType.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractProductType"})
+@Immutable
+public final class ProductType extends AbstractProductType {
+  private final String identifier;
+
+  private ProductType(String identifier) {
+    this.identifier = Objects.requireNonNull(identifier, "identifier");
+  }
+
+  private ProductType(ProductType original, String identifier) {
+    this.identifier = identifier;
+  }
+
+  /**
+   * @return The value of the {@code identifier} attribute
+   */
+  @Override
+  public String getIdentifier() {
+    return identifier;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProductType#getIdentifier() identifier} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for identifier
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProductType withIdentifier(String value) {
+    if (this.identifier.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "identifier");
+    return new ProductType(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ProductType} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ProductType
+        && equalTo((ProductType) another);
+  }
+
+  private boolean equalTo(ProductType another) {
+    return identifier.equals(another.identifier);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code identifier}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + identifier.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code ProductType} instance.
+   * @param identifier The value for the {@code identifier} attribute
+   * @return An immutable ProductType instance
+   */
+  public static ProductType of(String identifier) {
+    return new ProductType(identifier);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractProductType} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ProductType instance
+   */
+  static ProductType copyOf(AbstractProductType instance) {
+    if (instance instanceof ProductType) {
+      return (ProductType) instance;
+    }
+    return ProductType.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ProductType ProductType}.
+   * @return A new ProductType builder
+   */
+  public static ProductType.Builder builder() {
+    return new ProductType.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ProductType ProductType}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_IDENTIFIER = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String identifier;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ProductType} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ProductType instance) {
+      return from((AbstractProductType) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractProductType} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractProductType instance) {
+      Objects.requireNonNull(instance, "instance");
+      setIdentifier(instance.getIdentifier());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProductType#getIdentifier() identifier} attribute.
+     * @param identifier The value for identifier 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIdentifier(String identifier) {
+      this.identifier = Objects.requireNonNull(identifier, "identifier");
+      initBits &= ~INIT_BIT_IDENTIFIER;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link ProductType ProductType}.
+     * @return An immutable instance of ProductType
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ProductType build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ProductType(null, identifier);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_IDENTIFIER) != 0) attributes.add("identifier");
+      return "Cannot build ProductType, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,368 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ArtifactCacheEntries.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ArtifactCacheBuckConfig.AbstractArtifactCacheEntries"})
+@Immutable
+public final class ArtifactCacheEntries
+    extends ArtifactCacheBuckConfig.AbstractArtifactCacheEntries {
+  private final ImmutableSet<HttpCacheEntry> httpCacheEntries;
+  private final ImmutableSet<DirCacheEntry> dirCacheEntries;
+  private final ImmutableSet<SQLiteCacheEntry> sQLiteCacheEntries;
+
+  private ArtifactCacheEntries(
+      ImmutableSet<HttpCacheEntry> httpCacheEntries,
+      ImmutableSet<DirCacheEntry> dirCacheEntries,
+      ImmutableSet<SQLiteCacheEntry> sQLiteCacheEntries) {
+    this.httpCacheEntries = httpCacheEntries;
+    this.dirCacheEntries = dirCacheEntries;
+    this.sQLiteCacheEntries = sQLiteCacheEntries;
+  }
+
+  /**
+   * @return The value of the {@code httpCacheEntries} attribute
+   */
+  @Override
+  public ImmutableSet<HttpCacheEntry> getHttpCacheEntries() {
+    return httpCacheEntries;
+  }
+
+  /**
+   * @return The value of the {@code dirCacheEntries} attribute
+   */
+  @Override
+  public ImmutableSet<DirCacheEntry> getDirCacheEntries() {
+    return dirCacheEntries;
+  }
+
+  /**
+   * @return The value of the {@code sQLiteCacheEntries} attribute
+   */
+  @Override
+  public ImmutableSet<SQLiteCacheEntry> getSQLiteCacheEntries() {
+    return sQLiteCacheEntries;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getHttpCacheEntries() httpCacheEntries}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ArtifactCacheEntries withHttpCacheEntries(HttpCacheEntry... elements) {
+    ImmutableSet<HttpCacheEntry> newValue = ImmutableSet.copyOf(elements);
+    return new ArtifactCacheEntries(newValue, this.dirCacheEntries, this.sQLiteCacheEntries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getHttpCacheEntries() httpCacheEntries}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of httpCacheEntries elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ArtifactCacheEntries withHttpCacheEntries(Iterable<? extends HttpCacheEntry> elements) {
+    if (this.httpCacheEntries == elements) return this;
+    ImmutableSet<HttpCacheEntry> newValue = ImmutableSet.copyOf(elements);
+    return new ArtifactCacheEntries(newValue, this.dirCacheEntries, this.sQLiteCacheEntries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getDirCacheEntries() dirCacheEntries}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ArtifactCacheEntries withDirCacheEntries(DirCacheEntry... elements) {
+    ImmutableSet<DirCacheEntry> newValue = ImmutableSet.copyOf(elements);
+    return new ArtifactCacheEntries(this.httpCacheEntries, newValue, this.sQLiteCacheEntries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getDirCacheEntries() dirCacheEntries}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of dirCacheEntries elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ArtifactCacheEntries withDirCacheEntries(Iterable<? extends DirCacheEntry> elements) {
+    if (this.dirCacheEntries == elements) return this;
+    ImmutableSet<DirCacheEntry> newValue = ImmutableSet.copyOf(elements);
+    return new ArtifactCacheEntries(this.httpCacheEntries, newValue, this.sQLiteCacheEntries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getSQLiteCacheEntries() sQLiteCacheEntries}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ArtifactCacheEntries withSQLiteCacheEntries(SQLiteCacheEntry... elements) {
+    ImmutableSet<SQLiteCacheEntry> newValue = ImmutableSet.copyOf(elements);
+    return new ArtifactCacheEntries(this.httpCacheEntries, this.dirCacheEntries, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getSQLiteCacheEntries() sQLiteCacheEntries}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of sQLiteCacheEntries elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ArtifactCacheEntries withSQLiteCacheEntries(Iterable<? extends SQLiteCacheEntry> elements) {
+    if (this.sQLiteCacheEntries == elements) return this;
+    ImmutableSet<SQLiteCacheEntry> newValue = ImmutableSet.copyOf(elements);
+    return new ArtifactCacheEntries(this.httpCacheEntries, this.dirCacheEntries, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ArtifactCacheEntries} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ArtifactCacheEntries
+        && equalTo((ArtifactCacheEntries) another);
+  }
+
+  private boolean equalTo(ArtifactCacheEntries another) {
+    return httpCacheEntries.equals(another.httpCacheEntries)
+        && dirCacheEntries.equals(another.dirCacheEntries)
+        && sQLiteCacheEntries.equals(another.sQLiteCacheEntries);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code httpCacheEntries}, {@code dirCacheEntries}, {@code sQLiteCacheEntries}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + httpCacheEntries.hashCode();
+    h += (h << 5) + dirCacheEntries.hashCode();
+    h += (h << 5) + sQLiteCacheEntries.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ArtifactCacheEntries} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ArtifactCacheEntries")
+        .omitNullValues()
+        .add("httpCacheEntries", httpCacheEntries)
+        .add("dirCacheEntries", dirCacheEntries)
+        .add("sQLiteCacheEntries", sQLiteCacheEntries)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ArtifactCacheEntries instance
+   */
+  static ArtifactCacheEntries copyOf(ArtifactCacheBuckConfig.AbstractArtifactCacheEntries instance) {
+    if (instance instanceof ArtifactCacheEntries) {
+      return (ArtifactCacheEntries) instance;
+    }
+    return ArtifactCacheEntries.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ArtifactCacheEntries ArtifactCacheEntries}.
+   * @return A new ArtifactCacheEntries builder
+   */
+  public static ArtifactCacheEntries.Builder builder() {
+    return new ArtifactCacheEntries.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ArtifactCacheEntries ArtifactCacheEntries}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSet.Builder<HttpCacheEntry> httpCacheEntries = ImmutableSet.builder();
+    private ImmutableSet.Builder<DirCacheEntry> dirCacheEntries = ImmutableSet.builder();
+    private ImmutableSet.Builder<SQLiteCacheEntry> sQLiteCacheEntries = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ArtifactCacheEntries} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ArtifactCacheEntries instance) {
+      return from((ArtifactCacheBuckConfig.AbstractArtifactCacheEntries) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractArtifactCacheEntries} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ArtifactCacheBuckConfig.AbstractArtifactCacheEntries instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllHttpCacheEntries(instance.getHttpCacheEntries());
+      addAllDirCacheEntries(instance.getDirCacheEntries());
+      addAllSQLiteCacheEntries(instance.getSQLiteCacheEntries());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getHttpCacheEntries() httpCacheEntries} set.
+     * @param element A httpCacheEntries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addHttpCacheEntries(HttpCacheEntry element) {
+      this.httpCacheEntries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getHttpCacheEntries() httpCacheEntries} set.
+     * @param elements An array of httpCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addHttpCacheEntries(HttpCacheEntry... elements) {
+      this.httpCacheEntries.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getHttpCacheEntries() httpCacheEntries} set.
+     * @param elements An iterable of httpCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHttpCacheEntries(Iterable<? extends HttpCacheEntry> elements) {
+      this.httpCacheEntries = ImmutableSet.builder();
+      return addAllHttpCacheEntries(elements);
+    }
+
+    /**
+     * Adds elements to {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getHttpCacheEntries() httpCacheEntries} set.
+     * @param elements An iterable of httpCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllHttpCacheEntries(Iterable<? extends HttpCacheEntry> elements) {
+      this.httpCacheEntries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getDirCacheEntries() dirCacheEntries} set.
+     * @param element A dirCacheEntries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDirCacheEntries(DirCacheEntry element) {
+      this.dirCacheEntries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getDirCacheEntries() dirCacheEntries} set.
+     * @param elements An array of dirCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDirCacheEntries(DirCacheEntry... elements) {
+      this.dirCacheEntries.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getDirCacheEntries() dirCacheEntries} set.
+     * @param elements An iterable of dirCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDirCacheEntries(Iterable<? extends DirCacheEntry> elements) {
+      this.dirCacheEntries = ImmutableSet.builder();
+      return addAllDirCacheEntries(elements);
+    }
+
+    /**
+     * Adds elements to {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getDirCacheEntries() dirCacheEntries} set.
+     * @param elements An iterable of dirCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDirCacheEntries(Iterable<? extends DirCacheEntry> elements) {
+      this.dirCacheEntries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getSQLiteCacheEntries() sQLiteCacheEntries} set.
+     * @param element A sQLiteCacheEntries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSQLiteCacheEntries(SQLiteCacheEntry element) {
+      this.sQLiteCacheEntries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getSQLiteCacheEntries() sQLiteCacheEntries} set.
+     * @param elements An array of sQLiteCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSQLiteCacheEntries(SQLiteCacheEntry... elements) {
+      this.sQLiteCacheEntries.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getSQLiteCacheEntries() sQLiteCacheEntries} set.
+     * @param elements An iterable of sQLiteCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSQLiteCacheEntries(Iterable<? extends SQLiteCacheEntry> elements) {
+      this.sQLiteCacheEntries = ImmutableSet.builder();
+      return addAllSQLiteCacheEntries(elements);
+    }
+
+    /**
+     * Adds elements to {@link ArtifactCacheBuckConfig.AbstractArtifactCacheEntries#getSQLiteCacheEntries() sQLiteCacheEntries} set.
+     * @param elements An iterable of sQLiteCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSQLiteCacheEntries(Iterable<? extends SQLiteCacheEntry> elements) {
+      this.sQLiteCacheEntries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ArtifactCacheEntries ArtifactCacheEntries}.
+     * @return An immutable instance of ArtifactCacheEntries
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ArtifactCacheEntries build() {
+      return new ArtifactCacheEntries(httpCacheEntries.build(), dirCacheEntries.build(), sQLiteCacheEntries.build());
+    }
+  }
+}
@@ -0,0 +1,408 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.RuleKey;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractArtifactInfo}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ArtifactInfo.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractArtifactInfo"})
+@Immutable
+public final class ArtifactInfo implements AbstractArtifactInfo {
+  private final ImmutableSet<RuleKey> ruleKeys;
+  private final ImmutableMap<String, String> metadata;
+  private final @Nullable BuildTarget buildTarget;
+  private final @Nullable String repository;
+
+  private ArtifactInfo(
+      ImmutableSet<RuleKey> ruleKeys,
+      ImmutableMap<String, String> metadata,
+      @Nullable BuildTarget buildTarget,
+      @Nullable String repository) {
+    this.ruleKeys = ruleKeys;
+    this.metadata = metadata;
+    this.buildTarget = buildTarget;
+    this.repository = repository;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeys} attribute
+   */
+  @Override
+  public ImmutableSet<RuleKey> getRuleKeys() {
+    return ruleKeys;
+  }
+
+  /**
+   * @return The value of the {@code metadata} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getMetadata() {
+    return metadata;
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getBuildTarget() {
+    return Optional.ofNullable(buildTarget);
+  }
+
+  /**
+   * @return The value of the {@code repository} attribute
+   */
+  @Override
+  public Optional<String> getRepository() {
+    return Optional.ofNullable(repository);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractArtifactInfo#getRuleKeys() ruleKeys}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ArtifactInfo withRuleKeys(RuleKey... elements) {
+    ImmutableSet<RuleKey> newValue = ImmutableSet.copyOf(elements);
+    return new ArtifactInfo(newValue, this.metadata, this.buildTarget, this.repository);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractArtifactInfo#getRuleKeys() ruleKeys}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of ruleKeys elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ArtifactInfo withRuleKeys(Iterable<? extends RuleKey> elements) {
+    if (this.ruleKeys == elements) return this;
+    ImmutableSet<RuleKey> newValue = ImmutableSet.copyOf(elements);
+    return new ArtifactInfo(newValue, this.metadata, this.buildTarget, this.repository);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractArtifactInfo#getMetadata() metadata} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the metadata map
+   * @return A modified copy of {@code this} object
+   */
+  public final ArtifactInfo withMetadata(Map<String, ? extends String> entries) {
+    if (this.metadata == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new ArtifactInfo(this.ruleKeys, newValue, this.buildTarget, this.repository);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractArtifactInfo#getBuildTarget() buildTarget} attribute.
+   * @param value The value for buildTarget
+   * @return A modified copy of {@code this} object
+   */
+  public final ArtifactInfo withBuildTarget(BuildTarget value) {
+    @Nullable BuildTarget newValue = Objects.requireNonNull(value, "buildTarget");
+    if (this.buildTarget == newValue) return this;
+    return new ArtifactInfo(this.ruleKeys, this.metadata, newValue, this.repository);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractArtifactInfo#getBuildTarget() buildTarget} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for buildTarget
+   * @return A modified copy of {@code this} object
+   */
+  public final ArtifactInfo withBuildTarget(Optional<? extends BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.buildTarget == value) return this;
+    return new ArtifactInfo(this.ruleKeys, this.metadata, value, this.repository);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractArtifactInfo#getRepository() repository} attribute.
+   * @param value The value for repository
+   * @return A modified copy of {@code this} object
+   */
+  public final ArtifactInfo withRepository(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "repository");
+    if (Objects.equals(this.repository, newValue)) return this;
+    return new ArtifactInfo(this.ruleKeys, this.metadata, this.buildTarget, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractArtifactInfo#getRepository() repository} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for repository
+   * @return A modified copy of {@code this} object
+   */
+  public final ArtifactInfo withRepository(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.repository, value)) return this;
+    return new ArtifactInfo(this.ruleKeys, this.metadata, this.buildTarget, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ArtifactInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ArtifactInfo
+        && equalTo((ArtifactInfo) another);
+  }
+
+  private boolean equalTo(ArtifactInfo another) {
+    return ruleKeys.equals(another.ruleKeys)
+        && metadata.equals(another.metadata)
+        && Objects.equals(buildTarget, another.buildTarget)
+        && Objects.equals(repository, another.repository);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleKeys}, {@code metadata}, {@code buildTarget}, {@code repository}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + ruleKeys.hashCode();
+    h += (h << 5) + metadata.hashCode();
+    h += (h << 5) + Objects.hashCode(buildTarget);
+    h += (h << 5) + Objects.hashCode(repository);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ArtifactInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ArtifactInfo")
+        .omitNullValues()
+        .add("ruleKeys", ruleKeys)
+        .add("metadata", metadata)
+        .add("buildTarget", buildTarget)
+        .add("repository", repository)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractArtifactInfo} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ArtifactInfo instance
+   */
+  static ArtifactInfo copyOf(AbstractArtifactInfo instance) {
+    if (instance instanceof ArtifactInfo) {
+      return (ArtifactInfo) instance;
+    }
+    return ArtifactInfo.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ArtifactInfo ArtifactInfo}.
+   * @return A new ArtifactInfo builder
+   */
+  public static ArtifactInfo.Builder builder() {
+    return new ArtifactInfo.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ArtifactInfo ArtifactInfo}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSet.Builder<RuleKey> ruleKeys = ImmutableSet.builder();
+    private ImmutableMap.Builder<String, String> metadata = ImmutableMap.builder();
+    private @Nullable BuildTarget buildTarget;
+    private @Nullable String repository;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ArtifactInfo} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ArtifactInfo instance) {
+      return from((AbstractArtifactInfo) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractArtifactInfo} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractArtifactInfo instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllRuleKeys(instance.getRuleKeys());
+      putAllMetadata(instance.getMetadata());
+      Optional<BuildTarget> buildTargetOptional = instance.getBuildTarget();
+      if (buildTargetOptional.isPresent()) {
+        setBuildTarget(buildTargetOptional);
+      }
+      Optional<String> repositoryOptional = instance.getRepository();
+      if (repositoryOptional.isPresent()) {
+        setRepository(repositoryOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractArtifactInfo#getRuleKeys() ruleKeys} set.
+     * @param element A ruleKeys element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRuleKeys(RuleKey element) {
+      this.ruleKeys.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractArtifactInfo#getRuleKeys() ruleKeys} set.
+     * @param elements An array of ruleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRuleKeys(RuleKey... elements) {
+      this.ruleKeys.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractArtifactInfo#getRuleKeys() ruleKeys} set.
+     * @param elements An iterable of ruleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRuleKeys(Iterable<? extends RuleKey> elements) {
+      this.ruleKeys = ImmutableSet.builder();
+      return addAllRuleKeys(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractArtifactInfo#getRuleKeys() ruleKeys} set.
+     * @param elements An iterable of ruleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllRuleKeys(Iterable<? extends RuleKey> elements) {
+      this.ruleKeys.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractArtifactInfo#getMetadata() metadata} map.
+     * @param key The key in the metadata map
+     * @param value The associated value in the metadata map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putMetadata(String key, String value) {
+      this.metadata.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractArtifactInfo#getMetadata() metadata} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putMetadata(Map.Entry<String, ? extends String> entry) {
+      this.metadata.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractArtifactInfo#getMetadata() metadata} map. Nulls are not permitted
+     * @param metadata The entries that will be added to the metadata map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMetadata(Map<String, ? extends String> metadata) {
+      this.metadata = ImmutableMap.builder();
+      return putAllMetadata(metadata);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractArtifactInfo#getMetadata() metadata} map. Nulls are not permitted
+     * @param metadata The entries that will be added to the metadata map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllMetadata(Map<String, ? extends String> metadata) {
+      this.metadata.putAll(metadata);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractArtifactInfo#getBuildTarget() buildTarget} to buildTarget.
+     * @param buildTarget The value for buildTarget
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildTarget(BuildTarget buildTarget) {
+      this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractArtifactInfo#getBuildTarget() buildTarget} to buildTarget.
+     * @param buildTarget The value for buildTarget
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildTarget(Optional<? extends BuildTarget> buildTarget) {
+      this.buildTarget = buildTarget.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractArtifactInfo#getRepository() repository} to repository.
+     * @param repository The value for repository
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRepository(String repository) {
+      this.repository = Objects.requireNonNull(repository, "repository");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractArtifactInfo#getRepository() repository} to repository.
+     * @param repository The value for repository
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRepository(Optional<String> repository) {
+      this.repository = repository.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ArtifactInfo ArtifactInfo}.
+     * @return An immutable instance of ArtifactInfo
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ArtifactInfo build() {
+      return new ArtifactInfo(ruleKeys.build(), metadata.build(), buildTarget, repository);
+    }
+  }
+}
@@ -0,0 +1,690 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCacheResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CacheResult.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code CacheResult.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCacheResult"})
+@Immutable
+public final class CacheResult extends AbstractCacheResult {
+  private final CacheResultType type;
+  private final @Nullable String cacheSource;
+  private final @Nullable ArtifactCacheMode cacheMode;
+  private final @Nullable String cacheError;
+  private final @Nullable ImmutableMap<String, String> metadata;
+  private final @Nullable Long artifactSizeBytes;
+  private final @Nullable String twoLevelContentHashKey;
+
+  private CacheResult(
+      CacheResultType type,
+      Optional<String> cacheSource,
+      Optional<? extends ArtifactCacheMode> cacheMode,
+      Optional<String> cacheError,
+      Optional<? extends ImmutableMap<String, String>> metadata,
+      Optional<Long> artifactSizeBytes,
+      Optional<String> twoLevelContentHashKey) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.cacheSource = cacheSource.orElse(null);
+    this.cacheMode = cacheMode.orElse(null);
+    this.cacheError = cacheError.orElse(null);
+    this.metadata = metadata.orElse(null);
+    this.artifactSizeBytes = artifactSizeBytes.orElse(null);
+    this.twoLevelContentHashKey = twoLevelContentHashKey.orElse(null);
+  }
+
+  private CacheResult(
+      CacheResult original,
+      CacheResultType type,
+      @Nullable String cacheSource,
+      @Nullable ArtifactCacheMode cacheMode,
+      @Nullable String cacheError,
+      @Nullable ImmutableMap<String, String> metadata,
+      @Nullable Long artifactSizeBytes,
+      @Nullable String twoLevelContentHashKey) {
+    this.type = type;
+    this.cacheSource = cacheSource;
+    this.cacheMode = cacheMode;
+    this.cacheError = cacheError;
+    this.metadata = metadata;
+    this.artifactSizeBytes = artifactSizeBytes;
+    this.twoLevelContentHashKey = twoLevelContentHashKey;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public CacheResultType getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code cacheSource} attribute
+   */
+  @Override
+  public Optional<String> cacheSource() {
+    return Optional.ofNullable(cacheSource);
+  }
+
+  /**
+   * @return The value of the {@code cacheMode} attribute
+   */
+  @Override
+  public Optional<ArtifactCacheMode> cacheMode() {
+    return Optional.ofNullable(cacheMode);
+  }
+
+  /**
+   * @return The value of the {@code cacheError} attribute
+   */
+  @Override
+  public Optional<String> cacheError() {
+    return Optional.ofNullable(cacheError);
+  }
+
+  /**
+   * @return The value of the {@code metadata} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<String, String>> metadata() {
+    return Optional.ofNullable(metadata);
+  }
+
+  /**
+   * @return The value of the {@code artifactSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> artifactSizeBytes() {
+    return Optional.ofNullable(artifactSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code twoLevelContentHashKey} attribute
+   */
+  @Override
+  public Optional<String> twoLevelContentHashKey() {
+    return Optional.ofNullable(twoLevelContentHashKey);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCacheResult#getType() type} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final CacheResult withType(CacheResultType value) {
+    if (this.type == value) return this;
+    CacheResultType newValue = Objects.requireNonNull(value, "type");
+    return validate(new CacheResult(
+        this,
+        newValue,
+        this.cacheSource,
+        this.cacheMode,
+        this.cacheError,
+        this.metadata,
+        this.artifactSizeBytes,
+        this.twoLevelContentHashKey));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCacheResult#cacheSource() cacheSource} attribute.
+   * @param value The value for cacheSource
+   * @return A modified copy of {@code this} object
+   */
+  public final CacheResult withCacheSource(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "cacheSource");
+    if (Objects.equals(this.cacheSource, newValue)) return this;
+    return validate(new CacheResult(
+        this,
+        this.type,
+        newValue,
+        this.cacheMode,
+        this.cacheError,
+        this.metadata,
+        this.artifactSizeBytes,
+        this.twoLevelContentHashKey));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCacheResult#cacheSource() cacheSource} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cacheSource
+   * @return A modified copy of {@code this} object
+   */
+  public final CacheResult withCacheSource(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.cacheSource, value)) return this;
+    return validate(new CacheResult(
+        this,
+        this.type,
+        value,
+        this.cacheMode,
+        this.cacheError,
+        this.metadata,
+        this.artifactSizeBytes,
+        this.twoLevelContentHashKey));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCacheResult#cacheMode() cacheMode} attribute.
+   * @param value The value for cacheMode
+   * @return A modified copy of {@code this} object
+   */
+  public final CacheResult withCacheMode(ArtifactCacheMode value) {
+    @Nullable ArtifactCacheMode newValue = Objects.requireNonNull(value, "cacheMode");
+    if (this.cacheMode == newValue) return this;
+    return validate(new CacheResult(
+        this,
+        this.type,
+        this.cacheSource,
+        newValue,
+        this.cacheError,
+        this.metadata,
+        this.artifactSizeBytes,
+        this.twoLevelContentHashKey));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCacheResult#cacheMode() cacheMode} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cacheMode
+   * @return A modified copy of {@code this} object
+   */
+  public final CacheResult withCacheMode(Optional<? extends ArtifactCacheMode> optional) {
+    @Nullable ArtifactCacheMode value = optional.orElse(null);
+    if (Objects.equals(this.cacheMode, value)) return this;
+    return validate(new CacheResult(
+        this,
+        this.type,
+        this.cacheSource,
+        value,
+        this.cacheError,
+        this.metadata,
+        this.artifactSizeBytes,
+        this.twoLevelContentHashKey));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCacheResult#cacheError() cacheError} attribute.
+   * @param value The value for cacheError
+   * @return A modified copy of {@code this} object
+   */
+  public final CacheResult withCacheError(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "cacheError");
+    if (Objects.equals(this.cacheError, newValue)) return this;
+    return validate(new CacheResult(
+        this,
+        this.type,
+        this.cacheSource,
+        this.cacheMode,
+        newValue,
+        this.metadata,
+        this.artifactSizeBytes,
+        this.twoLevelContentHashKey));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCacheResult#cacheError() cacheError} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cacheError
+   * @return A modified copy of {@code this} object
+   */
+  public final CacheResult withCacheError(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.cacheError, value)) return this;
+    return validate(new CacheResult(
+        this,
+        this.type,
+        this.cacheSource,
+        this.cacheMode,
+        value,
+        this.metadata,
+        this.artifactSizeBytes,
+        this.twoLevelContentHashKey));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCacheResult#metadata() metadata} attribute.
+   * @param value The value for metadata
+   * @return A modified copy of {@code this} object
+   */
+  public final CacheResult withMetadata(ImmutableMap<String, String> value) {
+    @Nullable ImmutableMap<String, String> newValue = Objects.requireNonNull(value, "metadata");
+    if (this.metadata == newValue) return this;
+    return validate(new CacheResult(
+        this,
+        this.type,
+        this.cacheSource,
+        this.cacheMode,
+        this.cacheError,
+        newValue,
+        this.artifactSizeBytes,
+        this.twoLevelContentHashKey));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCacheResult#metadata() metadata} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for metadata
+   * @return A modified copy of {@code this} object
+   */
+  public final CacheResult withMetadata(Optional<? extends ImmutableMap<String, String>> optional) {
+    @Nullable ImmutableMap<String, String> value = optional.orElse(null);
+    if (this.metadata == value) return this;
+    return validate(new CacheResult(
+        this,
+        this.type,
+        this.cacheSource,
+        this.cacheMode,
+        this.cacheError,
+        value,
+        this.artifactSizeBytes,
+        this.twoLevelContentHashKey));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCacheResult#artifactSizeBytes() artifactSizeBytes} attribute.
+   * @param value The value for artifactSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final CacheResult withArtifactSizeBytes(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.artifactSizeBytes, newValue)) return this;
+    return validate(new CacheResult(
+        this,
+        this.type,
+        this.cacheSource,
+        this.cacheMode,
+        this.cacheError,
+        this.metadata,
+        newValue,
+        this.twoLevelContentHashKey));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCacheResult#artifactSizeBytes() artifactSizeBytes} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for artifactSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final CacheResult withArtifactSizeBytes(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.artifactSizeBytes, value)) return this;
+    return validate(new CacheResult(
+        this,
+        this.type,
+        this.cacheSource,
+        this.cacheMode,
+        this.cacheError,
+        this.metadata,
+        value,
+        this.twoLevelContentHashKey));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCacheResult#twoLevelContentHashKey() twoLevelContentHashKey} attribute.
+   * @param value The value for twoLevelContentHashKey
+   * @return A modified copy of {@code this} object
+   */
+  public final CacheResult withTwoLevelContentHashKey(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "twoLevelContentHashKey");
+    if (Objects.equals(this.twoLevelContentHashKey, newValue)) return this;
+    return validate(new CacheResult(
+        this,
+        this.type,
+        this.cacheSource,
+        this.cacheMode,
+        this.cacheError,
+        this.metadata,
+        this.artifactSizeBytes,
+        newValue));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCacheResult#twoLevelContentHashKey() twoLevelContentHashKey} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for twoLevelContentHashKey
+   * @return A modified copy of {@code this} object
+   */
+  public final CacheResult withTwoLevelContentHashKey(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.twoLevelContentHashKey, value)) return this;
+    return validate(new CacheResult(
+        this,
+        this.type,
+        this.cacheSource,
+        this.cacheMode,
+        this.cacheError,
+        this.metadata,
+        this.artifactSizeBytes,
+        value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CacheResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CacheResult
+        && equalTo((CacheResult) another);
+  }
+
+  private boolean equalTo(CacheResult another) {
+    return type.equals(another.type)
+        && Objects.equals(cacheSource, another.cacheSource)
+        && Objects.equals(cacheMode, another.cacheMode)
+        && Objects.equals(cacheError, another.cacheError)
+        && Objects.equals(metadata, another.metadata)
+        && Objects.equals(artifactSizeBytes, another.artifactSizeBytes)
+        && Objects.equals(twoLevelContentHashKey, another.twoLevelContentHashKey);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code cacheSource}, {@code cacheMode}, {@code cacheError}, {@code metadata}, {@code artifactSizeBytes}, {@code twoLevelContentHashKey}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + Objects.hashCode(cacheSource);
+    h += (h << 5) + Objects.hashCode(cacheMode);
+    h += (h << 5) + Objects.hashCode(cacheError);
+    h += (h << 5) + Objects.hashCode(metadata);
+    h += (h << 5) + Objects.hashCode(artifactSizeBytes);
+    h += (h << 5) + Objects.hashCode(twoLevelContentHashKey);
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code CacheResult} instance.
+   * @param type The value for the {@code type} attribute
+   * @param cacheSource The value for the {@code cacheSource} attribute
+   * @param cacheMode The value for the {@code cacheMode} attribute
+   * @param cacheError The value for the {@code cacheError} attribute
+   * @param metadata The value for the {@code metadata} attribute
+   * @param artifactSizeBytes The value for the {@code artifactSizeBytes} attribute
+   * @param twoLevelContentHashKey The value for the {@code twoLevelContentHashKey} attribute
+   * @return An immutable CacheResult instance
+   */
+  public static CacheResult of(CacheResultType type, Optional<String> cacheSource, Optional<? extends ArtifactCacheMode> cacheMode, Optional<String> cacheError, Optional<? extends ImmutableMap<String, String>> metadata, Optional<Long> artifactSizeBytes, Optional<String> twoLevelContentHashKey) {
+    return validate(new CacheResult(type, cacheSource, cacheMode, cacheError, metadata, artifactSizeBytes, twoLevelContentHashKey));
+  }
+
+
+  private static CacheResult validate(CacheResult instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCacheResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CacheResult instance
+   */
+  static CacheResult copyOf(AbstractCacheResult instance) {
+    if (instance instanceof CacheResult) {
+      return (CacheResult) instance;
+    }
+    return CacheResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CacheResult CacheResult}.
+   * @return A new CacheResult builder
+   */
+  public static CacheResult.Builder builder() {
+    return new CacheResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CacheResult CacheResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TYPE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable CacheResultType type;
+    private @Nullable String cacheSource;
+    private @Nullable ArtifactCacheMode cacheMode;
+    private @Nullable String cacheError;
+    private @Nullable ImmutableMap<String, String> metadata;
+    private @Nullable Long artifactSizeBytes;
+    private @Nullable String twoLevelContentHashKey;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CacheResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CacheResult instance) {
+      return from((AbstractCacheResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCacheResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractCacheResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setType(instance.getType());
+      Optional<String> cacheSourceOptional = instance.cacheSource();
+      if (cacheSourceOptional.isPresent()) {
+        setCacheSource(cacheSourceOptional);
+      }
+      Optional<ArtifactCacheMode> cacheModeOptional = instance.cacheMode();
+      if (cacheModeOptional.isPresent()) {
+        setCacheMode(cacheModeOptional);
+      }
+      Optional<String> cacheErrorOptional = instance.cacheError();
+      if (cacheErrorOptional.isPresent()) {
+        setCacheError(cacheErrorOptional);
+      }
+      Optional<ImmutableMap<String, String>> metadataOptional = instance.metadata();
+      if (metadataOptional.isPresent()) {
+        setMetadata(metadataOptional);
+      }
+      Optional<Long> artifactSizeBytesOptional = instance.artifactSizeBytes();
+      if (artifactSizeBytesOptional.isPresent()) {
+        setArtifactSizeBytes(artifactSizeBytesOptional);
+      }
+      Optional<String> twoLevelContentHashKeyOptional = instance.twoLevelContentHashKey();
+      if (twoLevelContentHashKeyOptional.isPresent()) {
+        setTwoLevelContentHashKey(twoLevelContentHashKeyOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCacheResult#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setType(CacheResultType type) {
+      this.type = Objects.requireNonNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractCacheResult#cacheSource() cacheSource} to cacheSource.
+     * @param cacheSource The value for cacheSource
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCacheSource(String cacheSource) {
+      this.cacheSource = Objects.requireNonNull(cacheSource, "cacheSource");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCacheResult#cacheSource() cacheSource} to cacheSource.
+     * @param cacheSource The value for cacheSource
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCacheSource(Optional<String> cacheSource) {
+      this.cacheSource = cacheSource.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCacheResult#cacheMode() cacheMode} to cacheMode.
+     * @param cacheMode The value for cacheMode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCacheMode(ArtifactCacheMode cacheMode) {
+      this.cacheMode = Objects.requireNonNull(cacheMode, "cacheMode");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCacheResult#cacheMode() cacheMode} to cacheMode.
+     * @param cacheMode The value for cacheMode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCacheMode(Optional<? extends ArtifactCacheMode> cacheMode) {
+      this.cacheMode = cacheMode.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCacheResult#cacheError() cacheError} to cacheError.
+     * @param cacheError The value for cacheError
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCacheError(String cacheError) {
+      this.cacheError = Objects.requireNonNull(cacheError, "cacheError");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCacheResult#cacheError() cacheError} to cacheError.
+     * @param cacheError The value for cacheError
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCacheError(Optional<String> cacheError) {
+      this.cacheError = cacheError.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCacheResult#metadata() metadata} to metadata.
+     * @param metadata The value for metadata
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMetadata(ImmutableMap<String, String> metadata) {
+      this.metadata = Objects.requireNonNull(metadata, "metadata");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCacheResult#metadata() metadata} to metadata.
+     * @param metadata The value for metadata
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMetadata(Optional<? extends ImmutableMap<String, String>> metadata) {
+      this.metadata = metadata.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCacheResult#artifactSizeBytes() artifactSizeBytes} to artifactSizeBytes.
+     * @param artifactSizeBytes The value for artifactSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setArtifactSizeBytes(long artifactSizeBytes) {
+      this.artifactSizeBytes = artifactSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCacheResult#artifactSizeBytes() artifactSizeBytes} to artifactSizeBytes.
+     * @param artifactSizeBytes The value for artifactSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setArtifactSizeBytes(Optional<Long> artifactSizeBytes) {
+      this.artifactSizeBytes = artifactSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCacheResult#twoLevelContentHashKey() twoLevelContentHashKey} to twoLevelContentHashKey.
+     * @param twoLevelContentHashKey The value for twoLevelContentHashKey
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTwoLevelContentHashKey(String twoLevelContentHashKey) {
+      this.twoLevelContentHashKey = Objects.requireNonNull(twoLevelContentHashKey, "twoLevelContentHashKey");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCacheResult#twoLevelContentHashKey() twoLevelContentHashKey} to twoLevelContentHashKey.
+     * @param twoLevelContentHashKey The value for twoLevelContentHashKey
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTwoLevelContentHashKey(Optional<String> twoLevelContentHashKey) {
+      this.twoLevelContentHashKey = twoLevelContentHashKey.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CacheResult CacheResult}.
+     * @return An immutable instance of CacheResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CacheResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return CacheResult.validate(new CacheResult(
+          null,
+          type,
+          cacheSource,
+          cacheMode,
+          cacheError,
+          metadata,
+          artifactSizeBytes,
+          twoLevelContentHashKey));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      return "Cannot build CacheResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,401 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DirCacheEntry.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ArtifactCacheBuckConfig.AbstractDirCacheEntry"})
+@Immutable
+public final class DirCacheEntry
+    extends ArtifactCacheBuckConfig.AbstractDirCacheEntry {
+  private final @Nullable String name;
+  private final Path cacheDir;
+  private final @Nullable Long maxSizeBytes;
+  private final CacheReadMode cacheReadMode;
+  private final DirCacheLayout layout;
+
+  private DirCacheEntry(DirCacheEntry.Builder builder) {
+    this.name = builder.name;
+    this.cacheDir = builder.cacheDir;
+    this.maxSizeBytes = builder.maxSizeBytes;
+    this.cacheReadMode = builder.cacheReadMode;
+    this.layout = builder.layout != null
+        ? builder.layout
+        : Objects.requireNonNull(super.getLayout(), "layout");
+  }
+
+  private DirCacheEntry(
+      @Nullable String name,
+      Path cacheDir,
+      @Nullable Long maxSizeBytes,
+      CacheReadMode cacheReadMode,
+      DirCacheLayout layout) {
+    this.name = name;
+    this.cacheDir = cacheDir;
+    this.maxSizeBytes = maxSizeBytes;
+    this.cacheReadMode = cacheReadMode;
+    this.layout = layout;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public Optional<String> getName() {
+    return Optional.ofNullable(name);
+  }
+
+  /**
+   * @return The value of the {@code cacheDir} attribute
+   */
+  @Override
+  public Path getCacheDir() {
+    return cacheDir;
+  }
+
+  /**
+   * @return The value of the {@code maxSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getMaxSizeBytes() {
+    return Optional.ofNullable(maxSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code cacheReadMode} attribute
+   */
+  @Override
+  public CacheReadMode getCacheReadMode() {
+    return cacheReadMode;
+  }
+
+  /**
+   * @return The value of the {@code layout} attribute
+   */
+  @Override
+  public DirCacheLayout getLayout() {
+    return layout;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getName() name} attribute.
+   * @param value The value for name
+   * @return A modified copy of {@code this} object
+   */
+  public final DirCacheEntry withName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "name");
+    if (Objects.equals(this.name, newValue)) return this;
+    return new DirCacheEntry(newValue, this.cacheDir, this.maxSizeBytes, this.cacheReadMode, this.layout);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getName() name} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for name
+   * @return A modified copy of {@code this} object
+   */
+  public final DirCacheEntry withName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.name, value)) return this;
+    return new DirCacheEntry(value, this.cacheDir, this.maxSizeBytes, this.cacheReadMode, this.layout);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getCacheDir() cacheDir} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cacheDir
+   * @return A modified copy of the {@code this} object
+   */
+  public final DirCacheEntry withCacheDir(Path value) {
+    if (this.cacheDir == value) return this;
+    Path newValue = Objects.requireNonNull(value, "cacheDir");
+    return new DirCacheEntry(this.name, newValue, this.maxSizeBytes, this.cacheReadMode, this.layout);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getMaxSizeBytes() maxSizeBytes} attribute.
+   * @param value The value for maxSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final DirCacheEntry withMaxSizeBytes(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.maxSizeBytes, newValue)) return this;
+    return new DirCacheEntry(this.name, this.cacheDir, newValue, this.cacheReadMode, this.layout);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getMaxSizeBytes() maxSizeBytes} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for maxSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final DirCacheEntry withMaxSizeBytes(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.maxSizeBytes, value)) return this;
+    return new DirCacheEntry(this.name, this.cacheDir, value, this.cacheReadMode, this.layout);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getCacheReadMode() cacheReadMode} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cacheReadMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final DirCacheEntry withCacheReadMode(CacheReadMode value) {
+    if (this.cacheReadMode == value) return this;
+    CacheReadMode newValue = Objects.requireNonNull(value, "cacheReadMode");
+    return new DirCacheEntry(this.name, this.cacheDir, this.maxSizeBytes, newValue, this.layout);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getLayout() layout} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for layout
+   * @return A modified copy of the {@code this} object
+   */
+  public final DirCacheEntry withLayout(DirCacheLayout value) {
+    if (this.layout == value) return this;
+    DirCacheLayout newValue = Objects.requireNonNull(value, "layout");
+    return new DirCacheEntry(this.name, this.cacheDir, this.maxSizeBytes, this.cacheReadMode, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DirCacheEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DirCacheEntry
+        && equalTo((DirCacheEntry) another);
+  }
+
+  private boolean equalTo(DirCacheEntry another) {
+    return Objects.equals(name, another.name)
+        && cacheDir.equals(another.cacheDir)
+        && Objects.equals(maxSizeBytes, another.maxSizeBytes)
+        && cacheReadMode.equals(another.cacheReadMode)
+        && layout.equals(another.layout);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code cacheDir}, {@code maxSizeBytes}, {@code cacheReadMode}, {@code layout}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(name);
+    h += (h << 5) + cacheDir.hashCode();
+    h += (h << 5) + Objects.hashCode(maxSizeBytes);
+    h += (h << 5) + cacheReadMode.hashCode();
+    h += (h << 5) + layout.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DirCacheEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DirCacheEntry")
+        .omitNullValues()
+        .add("name", name)
+        .add("cacheDir", cacheDir)
+        .add("maxSizeBytes", maxSizeBytes)
+        .add("cacheReadMode", cacheReadMode)
+        .add("layout", layout)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DirCacheEntry instance
+   */
+  static DirCacheEntry copyOf(ArtifactCacheBuckConfig.AbstractDirCacheEntry instance) {
+    if (instance instanceof DirCacheEntry) {
+      return (DirCacheEntry) instance;
+    }
+    return DirCacheEntry.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DirCacheEntry DirCacheEntry}.
+   * @return A new DirCacheEntry builder
+   */
+  public static DirCacheEntry.Builder builder() {
+    return new DirCacheEntry.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DirCacheEntry DirCacheEntry}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CACHE_DIR = 0x1L;
+    private static final long INIT_BIT_CACHE_READ_MODE = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String name;
+    private @Nullable Path cacheDir;
+    private @Nullable Long maxSizeBytes;
+    private @Nullable CacheReadMode cacheReadMode;
+    private @Nullable DirCacheLayout layout;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DirCacheEntry} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DirCacheEntry instance) {
+      return from((ArtifactCacheBuckConfig.AbstractDirCacheEntry) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDirCacheEntry} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ArtifactCacheBuckConfig.AbstractDirCacheEntry instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<String> nameOptional = instance.getName();
+      if (nameOptional.isPresent()) {
+        setName(nameOptional);
+      }
+      setCacheDir(instance.getCacheDir());
+      Optional<Long> maxSizeBytesOptional = instance.getMaxSizeBytes();
+      if (maxSizeBytesOptional.isPresent()) {
+        setMaxSizeBytes(maxSizeBytesOptional);
+      }
+      setCacheReadMode(instance.getCacheReadMode());
+      setLayout(instance.getLayout());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getName() name} to name.
+     * @param name The value for name
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getName() name} to name.
+     * @param name The value for name
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(Optional<String> name) {
+      this.name = name.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getCacheDir() cacheDir} attribute.
+     * @param cacheDir The value for cacheDir 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCacheDir(Path cacheDir) {
+      this.cacheDir = Objects.requireNonNull(cacheDir, "cacheDir");
+      initBits &= ~INIT_BIT_CACHE_DIR;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getMaxSizeBytes() maxSizeBytes} to maxSizeBytes.
+     * @param maxSizeBytes The value for maxSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMaxSizeBytes(long maxSizeBytes) {
+      this.maxSizeBytes = maxSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getMaxSizeBytes() maxSizeBytes} to maxSizeBytes.
+     * @param maxSizeBytes The value for maxSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMaxSizeBytes(Optional<Long> maxSizeBytes) {
+      this.maxSizeBytes = maxSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getCacheReadMode() cacheReadMode} attribute.
+     * @param cacheReadMode The value for cacheReadMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCacheReadMode(CacheReadMode cacheReadMode) {
+      this.cacheReadMode = Objects.requireNonNull(cacheReadMode, "cacheReadMode");
+      initBits &= ~INIT_BIT_CACHE_READ_MODE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getLayout() layout} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getLayout() layout}.</em>
+     * @param layout The value for layout 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLayout(DirCacheLayout layout) {
+      this.layout = Objects.requireNonNull(layout, "layout");
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DirCacheEntry DirCacheEntry}.
+     * @return An immutable instance of DirCacheEntry
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DirCacheEntry build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DirCacheEntry(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CACHE_DIR) != 0) attributes.add("cacheDir");
+      if ((initBits & INIT_BIT_CACHE_READ_MODE) != 0) attributes.add("cacheReadMode");
+      return "Cannot build DirCacheEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,262 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *The result of looking up the file of an artifact in a {@link LocalArtifactFileCache}. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractLocalArtifactFile"})
+@Immutable
+public final class LocalArtifactFile implements AbstractLocalArtifactFile {
+  private final CacheResult cacheResult;
+  private final @Nullable Path path;
+
+  private LocalArtifactFile(
+      CacheResult cacheResult,
+      Optional<? extends Path> path) {
+    this.cacheResult = Objects.requireNonNull(cacheResult, "cacheResult");
+    this.path = path.orElse(null);
+  }
+
+  private LocalArtifactFile(
+      LocalArtifactFile original,
+      CacheResult cacheResult,
+      @Nullable Path path) {
+    this.cacheResult = cacheResult;
+    this.path = path;
+  }
+
+  /**
+   * @return The value of the {@code cacheResult} attribute
+   */
+  @Override
+  public CacheResult getCacheResult() {
+    return cacheResult;
+  }
+
+  /**
+   * @return the absolute path of the file the artifact is stored in. The file must not be
+   *     modified, and may disappear when the cache evicts the artifact.
+   */
+  @Override
+  public Optional<Path> getPath() {
+    return Optional.ofNullable(path);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLocalArtifactFile#getCacheResult() cacheResult} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cacheResult
+   * @return A modified copy of the {@code this} object
+   */
+  public final LocalArtifactFile withCacheResult(CacheResult value) {
+    if (this.cacheResult == value) return this;
+    CacheResult newValue = Objects.requireNonNull(value, "cacheResult");
+    return new LocalArtifactFile(this, newValue, this.path);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractLocalArtifactFile#getPath() path} attribute.
+   * @param value The value for path
+   * @return A modified copy of {@code this} object
+   */
+  public final LocalArtifactFile withPath(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "path");
+    if (this.path == newValue) return this;
+    return new LocalArtifactFile(this, this.cacheResult, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractLocalArtifactFile#getPath() path} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for path
+   * @return A modified copy of {@code this} object
+   */
+  public final LocalArtifactFile withPath(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.path == value) return this;
+    return new LocalArtifactFile(this, this.cacheResult, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code LocalArtifactFile} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof LocalArtifactFile
+        && equalTo((LocalArtifactFile) another);
+  }
+
+  private boolean equalTo(LocalArtifactFile another) {
+    return cacheResult.equals(another.cacheResult)
+        && Objects.equals(path, another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cacheResult}, {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + cacheResult.hashCode();
+    h += (h << 5) + Objects.hashCode(path);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LocalArtifactFile} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LocalArtifactFile")
+        .omitNullValues()
+        .add("cacheResult", cacheResult)
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LocalArtifactFile} instance.
+   * @param cacheResult The value for the {@code cacheResult} attribute
+   * @param path The value for the {@code path} attribute
+   * @return An immutable LocalArtifactFile instance
+   */
+  public static LocalArtifactFile of(CacheResult cacheResult, Optional<? extends Path> path) {
+    return new LocalArtifactFile(cacheResult, path);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractLocalArtifactFile} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable LocalArtifactFile instance
+   */
+  static LocalArtifactFile copyOf(AbstractLocalArtifactFile instance) {
+    if (instance instanceof LocalArtifactFile) {
+      return (LocalArtifactFile) instance;
+    }
+    return LocalArtifactFile.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link LocalArtifactFile LocalArtifactFile}.
+   * @return A new LocalArtifactFile builder
+   */
+  public static LocalArtifactFile.Builder builder() {
+    return new LocalArtifactFile.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link LocalArtifactFile LocalArtifactFile}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CACHE_RESULT = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable CacheResult cacheResult;
+    private @Nullable Path path;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code LocalArtifactFile} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(LocalArtifactFile instance) {
+      return from((AbstractLocalArtifactFile) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractLocalArtifactFile} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractLocalArtifactFile instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCacheResult(instance.getCacheResult());
+      Optional<Path> pathOptional = instance.getPath();
+      if (pathOptional.isPresent()) {
+        setPath(pathOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractLocalArtifactFile#getCacheResult() cacheResult} attribute.
+     * @param cacheResult The value for cacheResult 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCacheResult(CacheResult cacheResult) {
+      this.cacheResult = Objects.requireNonNull(cacheResult, "cacheResult");
+      initBits &= ~INIT_BIT_CACHE_RESULT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractLocalArtifactFile#getPath() path} to path.
+     * @param path The value for path
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPath(Path path) {
+      this.path = Objects.requireNonNull(path, "path");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractLocalArtifactFile#getPath() path} to path.
+     * @param path The value for path
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPath(Optional<? extends Path> path) {
+      this.path = path.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link LocalArtifactFile LocalArtifactFile}.
+     * @return An immutable instance of LocalArtifactFile
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public LocalArtifactFile build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new LocalArtifactFile(null, cacheResult, path);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CACHE_RESULT) != 0) attributes.add("cacheResult");
+      return "Cannot build LocalArtifactFile, some of required attributes are not set " + attributes;
+    }
+  }
+}
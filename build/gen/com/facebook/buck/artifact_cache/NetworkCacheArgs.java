@@ -0,0 +1,906 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.slb.HttpService;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractNetworkCacheArgs}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code NetworkCacheArgs.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNetworkCacheArgs"})
+@Immutable
+public final class NetworkCacheArgs implements AbstractNetworkCacheArgs {
+  private final String cacheName;
+  private final ArtifactCacheMode cacheMode;
+  private final String repository;
+  private final String scheduleType;
+  private final HttpService fetchClient;
+  private final HttpService storeClient;
+  private final CacheReadMode cacheReadMode;
+  private final ProjectFilesystem projectFilesystem;
+  private final BuckEventBus buckEventBus;
+  private final ListeningExecutorService httpFetchExecutorService;
+  private final ListeningExecutorService httpWriteExecutorService;
+  private final String errorTextTemplate;
+  private final @Nullable Long maxStoreSizeBytes;
+
+  private NetworkCacheArgs(
+      String cacheName,
+      ArtifactCacheMode cacheMode,
+      String repository,
+      String scheduleType,
+      HttpService fetchClient,
+      HttpService storeClient,
+      CacheReadMode cacheReadMode,
+      ProjectFilesystem projectFilesystem,
+      BuckEventBus buckEventBus,
+      ListeningExecutorService httpFetchExecutorService,
+      ListeningExecutorService httpWriteExecutorService,
+      String errorTextTemplate,
+      @Nullable Long maxStoreSizeBytes) {
+    this.cacheName = cacheName;
+    this.cacheMode = cacheMode;
+    this.repository = repository;
+    this.scheduleType = scheduleType;
+    this.fetchClient = fetchClient;
+    this.storeClient = storeClient;
+    this.cacheReadMode = cacheReadMode;
+    this.projectFilesystem = projectFilesystem;
+    this.buckEventBus = buckEventBus;
+    this.httpFetchExecutorService = httpFetchExecutorService;
+    this.httpWriteExecutorService = httpWriteExecutorService;
+    this.errorTextTemplate = errorTextTemplate;
+    this.maxStoreSizeBytes = maxStoreSizeBytes;
+  }
+
+  /**
+   * @return The value of the {@code cacheName} attribute
+   */
+  @Override
+  public String getCacheName() {
+    return cacheName;
+  }
+
+  /**
+   * @return The value of the {@code cacheMode} attribute
+   */
+  @Override
+  public ArtifactCacheMode getCacheMode() {
+    return cacheMode;
+  }
+
+  /**
+   * @return The value of the {@code repository} attribute
+   */
+  @Override
+  public String getRepository() {
+    return repository;
+  }
+
+  /**
+   * @return The value of the {@code scheduleType} attribute
+   */
+  @Override
+  public String getScheduleType() {
+    return scheduleType;
+  }
+
+  /**
+   * @return The value of the {@code fetchClient} attribute
+   */
+  @Override
+  public HttpService getFetchClient() {
+    return fetchClient;
+  }
+
+  /**
+   * @return The value of the {@code storeClient} attribute
+   */
+  @Override
+  public HttpService getStoreClient() {
+    return storeClient;
+  }
+
+  /**
+   * @return The value of the {@code cacheReadMode} attribute
+   */
+  @Override
+  public CacheReadMode getCacheReadMode() {
+    return cacheReadMode;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code buckEventBus} attribute
+   */
+  @Override
+  public BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return The value of the {@code httpFetchExecutorService} attribute
+   */
+  @Override
+  public ListeningExecutorService getHttpFetchExecutorService() {
+    return httpFetchExecutorService;
+  }
+
+  /**
+   * @return The value of the {@code httpWriteExecutorService} attribute
+   */
+  @Override
+  public ListeningExecutorService getHttpWriteExecutorService() {
+    return httpWriteExecutorService;
+  }
+
+  /**
+   * @return The value of the {@code errorTextTemplate} attribute
+   */
+  @Override
+  public String getErrorTextTemplate() {
+    return errorTextTemplate;
+  }
+
+  /**
+   * @return The value of the {@code maxStoreSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getMaxStoreSizeBytes() {
+    return Optional.ofNullable(maxStoreSizeBytes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getCacheName() cacheName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cacheName
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withCacheName(String value) {
+    if (this.cacheName.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "cacheName");
+    return new NetworkCacheArgs(
+        newValue,
+        this.cacheMode,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpFetchExecutorService,
+        this.httpWriteExecutorService,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getCacheMode() cacheMode} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cacheMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withCacheMode(ArtifactCacheMode value) {
+    if (this.cacheMode == value) return this;
+    ArtifactCacheMode newValue = Objects.requireNonNull(value, "cacheMode");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        newValue,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpFetchExecutorService,
+        this.httpWriteExecutorService,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getRepository() repository} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for repository
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withRepository(String value) {
+    if (this.repository.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "repository");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.cacheMode,
+        newValue,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpFetchExecutorService,
+        this.httpWriteExecutorService,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getScheduleType() scheduleType} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for scheduleType
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withScheduleType(String value) {
+    if (this.scheduleType.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "scheduleType");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.cacheMode,
+        this.repository,
+        newValue,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpFetchExecutorService,
+        this.httpWriteExecutorService,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getFetchClient() fetchClient} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fetchClient
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withFetchClient(HttpService value) {
+    if (this.fetchClient == value) return this;
+    HttpService newValue = Objects.requireNonNull(value, "fetchClient");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.cacheMode,
+        this.repository,
+        this.scheduleType,
+        newValue,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpFetchExecutorService,
+        this.httpWriteExecutorService,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getStoreClient() storeClient} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for storeClient
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withStoreClient(HttpService value) {
+    if (this.storeClient == value) return this;
+    HttpService newValue = Objects.requireNonNull(value, "storeClient");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.cacheMode,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        newValue,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpFetchExecutorService,
+        this.httpWriteExecutorService,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getCacheReadMode() cacheReadMode} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cacheReadMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withCacheReadMode(CacheReadMode value) {
+    if (this.cacheReadMode == value) return this;
+    CacheReadMode newValue = Objects.requireNonNull(value, "cacheReadMode");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.cacheMode,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        newValue,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpFetchExecutorService,
+        this.httpWriteExecutorService,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getProjectFilesystem() projectFilesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectFilesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withProjectFilesystem(ProjectFilesystem value) {
+    if (this.projectFilesystem == value) return this;
+    ProjectFilesystem newValue = Objects.requireNonNull(value, "projectFilesystem");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.cacheMode,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        newValue,
+        this.buckEventBus,
+        this.httpFetchExecutorService,
+        this.httpWriteExecutorService,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getBuckEventBus() buckEventBus} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckEventBus
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withBuckEventBus(BuckEventBus value) {
+    if (this.buckEventBus == value) return this;
+    BuckEventBus newValue = Objects.requireNonNull(value, "buckEventBus");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.cacheMode,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        newValue,
+        this.httpFetchExecutorService,
+        this.httpWriteExecutorService,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getHttpFetchExecutorService() httpFetchExecutorService} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for httpFetchExecutorService
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withHttpFetchExecutorService(ListeningExecutorService value) {
+    if (this.httpFetchExecutorService == value) return this;
+    ListeningExecutorService newValue = Objects.requireNonNull(value, "httpFetchExecutorService");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.cacheMode,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        newValue,
+        this.httpWriteExecutorService,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getHttpWriteExecutorService() httpWriteExecutorService} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for httpWriteExecutorService
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withHttpWriteExecutorService(ListeningExecutorService value) {
+    if (this.httpWriteExecutorService == value) return this;
+    ListeningExecutorService newValue = Objects.requireNonNull(value, "httpWriteExecutorService");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.cacheMode,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpFetchExecutorService,
+        newValue,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getErrorTextTemplate() errorTextTemplate} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for errorTextTemplate
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withErrorTextTemplate(String value) {
+    if (this.errorTextTemplate.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "errorTextTemplate");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.cacheMode,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpFetchExecutorService,
+        this.httpWriteExecutorService,
+        newValue,
+        this.maxStoreSizeBytes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNetworkCacheArgs#getMaxStoreSizeBytes() maxStoreSizeBytes} attribute.
+   * @param value The value for maxStoreSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final NetworkCacheArgs withMaxStoreSizeBytes(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.maxStoreSizeBytes, newValue)) return this;
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.cacheMode,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpFetchExecutorService,
+        this.httpWriteExecutorService,
+        this.errorTextTemplate,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNetworkCacheArgs#getMaxStoreSizeBytes() maxStoreSizeBytes} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for maxStoreSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final NetworkCacheArgs withMaxStoreSizeBytes(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.maxStoreSizeBytes, value)) return this;
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.cacheMode,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpFetchExecutorService,
+        this.httpWriteExecutorService,
+        this.errorTextTemplate,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NetworkCacheArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NetworkCacheArgs
+        && equalTo((NetworkCacheArgs) another);
+  }
+
+  private boolean equalTo(NetworkCacheArgs another) {
+    return cacheName.equals(another.cacheName)
+        && cacheMode.equals(another.cacheMode)
+        && repository.equals(another.repository)
+        && scheduleType.equals(another.scheduleType)
+        && fetchClient.equals(another.fetchClient)
+        && storeClient.equals(another.storeClient)
+        && cacheReadMode.equals(another.cacheReadMode)
+        && projectFilesystem.equals(another.projectFilesystem)
+        && buckEventBus.equals(another.buckEventBus)
+        && httpFetchExecutorService.equals(another.httpFetchExecutorService)
+        && httpWriteExecutorService.equals(another.httpWriteExecutorService)
+        && errorTextTemplate.equals(another.errorTextTemplate)
+        && Objects.equals(maxStoreSizeBytes, another.maxStoreSizeBytes);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cacheName}, {@code cacheMode}, {@code repository}, {@code scheduleType}, {@code fetchClient}, {@code storeClient}, {@code cacheReadMode}, {@code projectFilesystem}, {@code buckEventBus}, {@code httpFetchExecutorService}, {@code httpWriteExecutorService}, {@code errorTextTemplate}, {@code maxStoreSizeBytes}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + cacheName.hashCode();
+    h += (h << 5) + cacheMode.hashCode();
+    h += (h << 5) + repository.hashCode();
+    h += (h << 5) + scheduleType.hashCode();
+    h += (h << 5) + fetchClient.hashCode();
+    h += (h << 5) + storeClient.hashCode();
+    h += (h << 5) + cacheReadMode.hashCode();
+    h += (h << 5) + projectFilesystem.hashCode();
+    h += (h << 5) + buckEventBus.hashCode();
+    h += (h << 5) + httpFetchExecutorService.hashCode();
+    h += (h << 5) + httpWriteExecutorService.hashCode();
+    h += (h << 5) + errorTextTemplate.hashCode();
+    h += (h << 5) + Objects.hashCode(maxStoreSizeBytes);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NetworkCacheArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NetworkCacheArgs")
+        .omitNullValues()
+        .add("cacheName", cacheName)
+        .add("cacheMode", cacheMode)
+        .add("repository", repository)
+        .add("scheduleType", scheduleType)
+        .add("fetchClient", fetchClient)
+        .add("storeClient", storeClient)
+        .add("cacheReadMode", cacheReadMode)
+        .add("projectFilesystem", projectFilesystem)
+        .add("buckEventBus", buckEventBus)
+        .add("httpFetchExecutorService", httpFetchExecutorService)
+        .add("httpWriteExecutorService", httpWriteExecutorService)
+        .add("errorTextTemplate", errorTextTemplate)
+        .add("maxStoreSizeBytes", maxStoreSizeBytes)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractNetworkCacheArgs} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable NetworkCacheArgs instance
+   */
+  static NetworkCacheArgs copyOf(AbstractNetworkCacheArgs instance) {
+    if (instance instanceof NetworkCacheArgs) {
+      return (NetworkCacheArgs) instance;
+    }
+    return NetworkCacheArgs.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link NetworkCacheArgs NetworkCacheArgs}.
+   * @return A new NetworkCacheArgs builder
+   */
+  public static NetworkCacheArgs.Builder builder() {
+    return new NetworkCacheArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link NetworkCacheArgs NetworkCacheArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CACHE_NAME = 0x1L;
+    private static final long INIT_BIT_CACHE_MODE = 0x2L;
+    private static final long INIT_BIT_REPOSITORY = 0x4L;
+    private static final long INIT_BIT_SCHEDULE_TYPE = 0x8L;
+    private static final long INIT_BIT_FETCH_CLIENT = 0x10L;
+    private static final long INIT_BIT_STORE_CLIENT = 0x20L;
+    private static final long INIT_BIT_CACHE_READ_MODE = 0x40L;
+    private static final long INIT_BIT_PROJECT_FILESYSTEM = 0x80L;
+    private static final long INIT_BIT_BUCK_EVENT_BUS = 0x100L;
+    private static final long INIT_BIT_HTTP_FETCH_EXECUTOR_SERVICE = 0x200L;
+    private static final long INIT_BIT_HTTP_WRITE_EXECUTOR_SERVICE = 0x400L;
+    private static final long INIT_BIT_ERROR_TEXT_TEMPLATE = 0x800L;
+    private long initBits = 0xfffL;
+
+    private @Nullable String cacheName;
+    private @Nullable ArtifactCacheMode cacheMode;
+    private @Nullable String repository;
+    private @Nullable String scheduleType;
+    private @Nullable HttpService fetchClient;
+    private @Nullable HttpService storeClient;
+    private @Nullable CacheReadMode cacheReadMode;
+    private @Nullable ProjectFilesystem projectFilesystem;
+    private @Nullable BuckEventBus buckEventBus;
+    private @Nullable ListeningExecutorService httpFetchExecutorService;
+    private @Nullable ListeningExecutorService httpWriteExecutorService;
+    private @Nullable String errorTextTemplate;
+    private @Nullable Long maxStoreSizeBytes;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NetworkCacheArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(NetworkCacheArgs instance) {
+      return from((AbstractNetworkCacheArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractNetworkCacheArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractNetworkCacheArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCacheName(instance.getCacheName());
+      setCacheMode(instance.getCacheMode());
+      setRepository(instance.getRepository());
+      setScheduleType(instance.getScheduleType());
+      setFetchClient(instance.getFetchClient());
+      setStoreClient(instance.getStoreClient());
+      setCacheReadMode(instance.getCacheReadMode());
+      setProjectFilesystem(instance.getProjectFilesystem());
+      setBuckEventBus(instance.getBuckEventBus());
+      setHttpFetchExecutorService(instance.getHttpFetchExecutorService());
+      setHttpWriteExecutorService(instance.getHttpWriteExecutorService());
+      setErrorTextTemplate(instance.getErrorTextTemplate());
+      Optional<Long> maxStoreSizeBytesOptional = instance.getMaxStoreSizeBytes();
+      if (maxStoreSizeBytesOptional.isPresent()) {
+        setMaxStoreSizeBytes(maxStoreSizeBytesOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getCacheName() cacheName} attribute.
+     * @param cacheName The value for cacheName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCacheName(String cacheName) {
+      this.cacheName = Objects.requireNonNull(cacheName, "cacheName");
+      initBits &= ~INIT_BIT_CACHE_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getCacheMode() cacheMode} attribute.
+     * @param cacheMode The value for cacheMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCacheMode(ArtifactCacheMode cacheMode) {
+      this.cacheMode = Objects.requireNonNull(cacheMode, "cacheMode");
+      initBits &= ~INIT_BIT_CACHE_MODE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getRepository() repository} attribute.
+     * @param repository The value for repository 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRepository(String repository) {
+      this.repository = Objects.requireNonNull(repository, "repository");
+      initBits &= ~INIT_BIT_REPOSITORY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getScheduleType() scheduleType} attribute.
+     * @param scheduleType The value for scheduleType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setScheduleType(String scheduleType) {
+      this.scheduleType = Objects.requireNonNull(scheduleType, "scheduleType");
+      initBits &= ~INIT_BIT_SCHEDULE_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getFetchClient() fetchClient} attribute.
+     * @param fetchClient The value for fetchClient 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFetchClient(HttpService fetchClient) {
+      this.fetchClient = Objects.requireNonNull(fetchClient, "fetchClient");
+      initBits &= ~INIT_BIT_FETCH_CLIENT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getStoreClient() storeClient} attribute.
+     * @param storeClient The value for storeClient 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStoreClient(HttpService storeClient) {
+      this.storeClient = Objects.requireNonNull(storeClient, "storeClient");
+      initBits &= ~INIT_BIT_STORE_CLIENT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getCacheReadMode() cacheReadMode} attribute.
+     * @param cacheReadMode The value for cacheReadMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCacheReadMode(CacheReadMode cacheReadMode) {
+      this.cacheReadMode = Objects.requireNonNull(cacheReadMode, "cacheReadMode");
+      initBits &= ~INIT_BIT_CACHE_READ_MODE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getProjectFilesystem() projectFilesystem} attribute.
+     * @param projectFilesystem The value for projectFilesystem 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectFilesystem(ProjectFilesystem projectFilesystem) {
+      this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+      initBits &= ~INIT_BIT_PROJECT_FILESYSTEM;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getBuckEventBus() buckEventBus} attribute.
+     * @param buckEventBus The value for buckEventBus 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuckEventBus(BuckEventBus buckEventBus) {
+      this.buckEventBus = Objects.requireNonNull(buckEventBus, "buckEventBus");
+      initBits &= ~INIT_BIT_BUCK_EVENT_BUS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getHttpFetchExecutorService() httpFetchExecutorService} attribute.
+     * @param httpFetchExecutorService The value for httpFetchExecutorService 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHttpFetchExecutorService(ListeningExecutorService httpFetchExecutorService) {
+      this.httpFetchExecutorService = Objects.requireNonNull(httpFetchExecutorService, "httpFetchExecutorService");
+      initBits &= ~INIT_BIT_HTTP_FETCH_EXECUTOR_SERVICE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getHttpWriteExecutorService() httpWriteExecutorService} attribute.
+     * @param httpWriteExecutorService The value for httpWriteExecutorService 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHttpWriteExecutorService(ListeningExecutorService httpWriteExecutorService) {
+      this.httpWriteExecutorService = Objects.requireNonNull(httpWriteExecutorService, "httpWriteExecutorService");
+      initBits &= ~INIT_BIT_HTTP_WRITE_EXECUTOR_SERVICE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getErrorTextTemplate() errorTextTemplate} attribute.
+     * @param errorTextTemplate The value for errorTextTemplate 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setErrorTextTemplate(String errorTextTemplate) {
+      this.errorTextTemplate = Objects.requireNonNull(errorTextTemplate, "errorTextTemplate");
+      initBits &= ~INIT_BIT_ERROR_TEXT_TEMPLATE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractNetworkCacheArgs#getMaxStoreSizeBytes() maxStoreSizeBytes} to maxStoreSizeBytes.
+     * @param maxStoreSizeBytes The value for maxStoreSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMaxStoreSizeBytes(long maxStoreSizeBytes) {
+      this.maxStoreSizeBytes = maxStoreSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNetworkCacheArgs#getMaxStoreSizeBytes() maxStoreSizeBytes} to maxStoreSizeBytes.
+     * @param maxStoreSizeBytes The value for maxStoreSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMaxStoreSizeBytes(Optional<Long> maxStoreSizeBytes) {
+      this.maxStoreSizeBytes = maxStoreSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link NetworkCacheArgs NetworkCacheArgs}.
+     * @return An immutable instance of NetworkCacheArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NetworkCacheArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new NetworkCacheArgs(
+          cacheName,
+          cacheMode,
+          repository,
+          scheduleType,
+          fetchClient,
+          storeClient,
+          cacheReadMode,
+          projectFilesystem,
+          buckEventBus,
+          httpFetchExecutorService,
+          httpWriteExecutorService,
+          errorTextTemplate,
+          maxStoreSizeBytes);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CACHE_NAME) != 0) attributes.add("cacheName");
+      if ((initBits & INIT_BIT_CACHE_MODE) != 0) attributes.add("cacheMode");
+      if ((initBits & INIT_BIT_REPOSITORY) != 0) attributes.add("repository");
+      if ((initBits & INIT_BIT_SCHEDULE_TYPE) != 0) attributes.add("scheduleType");
+      if ((initBits & INIT_BIT_FETCH_CLIENT) != 0) attributes.add("fetchClient");
+      if ((initBits & INIT_BIT_STORE_CLIENT) != 0) attributes.add("storeClient");
+      if ((initBits & INIT_BIT_CACHE_READ_MODE) != 0) attributes.add("cacheReadMode");
+      if ((initBits & INIT_BIT_PROJECT_FILESYSTEM) != 0) attributes.add("projectFilesystem");
+      if ((initBits & INIT_BIT_BUCK_EVENT_BUS) != 0) attributes.add("buckEventBus");
+      if ((initBits & INIT_BIT_HTTP_FETCH_EXECUTOR_SERVICE) != 0) attributes.add("httpFetchExecutorService");
+      if ((initBits & INIT_BIT_HTTP_WRITE_EXECUTOR_SERVICE) != 0) attributes.add("httpWriteExecutorService");
+      if ((initBits & INIT_BIT_ERROR_TEXT_TEMPLATE) != 0) attributes.add("errorTextTemplate");
+      return "Cannot build NetworkCacheArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,633 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.rules.RuleKey;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import com.google.common.primitives.Longs;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code StoreResponseReadResult.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult"})
+@Immutable
+public final class StoreResponseReadResult
+    extends HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult {
+  private final ImmutableSet<RuleKey> rawKeys;
+  private final ImmutableSet<RuleKey> ruleKeys;
+  private final HashCode expectedHashCode;
+  private final HashCode actualHashCode;
+  private final HashCode artifactOnlyHashCode;
+  private final long responseSizeBytes;
+  private final ImmutableMap<String, String> metadata;
+
+  private StoreResponseReadResult(
+      ImmutableSet<RuleKey> rawKeys,
+      ImmutableSet<RuleKey> ruleKeys,
+      HashCode expectedHashCode,
+      HashCode actualHashCode,
+      HashCode artifactOnlyHashCode,
+      long responseSizeBytes,
+      ImmutableMap<String, String> metadata) {
+    this.rawKeys = rawKeys;
+    this.ruleKeys = ruleKeys;
+    this.expectedHashCode = expectedHashCode;
+    this.actualHashCode = actualHashCode;
+    this.artifactOnlyHashCode = artifactOnlyHashCode;
+    this.responseSizeBytes = responseSizeBytes;
+    this.metadata = metadata;
+  }
+
+  /**
+   * @return The value of the {@code rawKeys} attribute
+   */
+  @Override
+  public ImmutableSet<RuleKey> getRawKeys() {
+    return rawKeys;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeys} attribute
+   */
+  @Override
+  public ImmutableSet<RuleKey> getRuleKeys() {
+    return ruleKeys;
+  }
+
+  /**
+   * @return The value of the {@code expectedHashCode} attribute
+   */
+  @Override
+  public HashCode getExpectedHashCode() {
+    return expectedHashCode;
+  }
+
+  /**
+   * @return The value of the {@code actualHashCode} attribute
+   */
+  @Override
+  public HashCode getActualHashCode() {
+    return actualHashCode;
+  }
+
+  /**
+   * @return The value of the {@code artifactOnlyHashCode} attribute
+   */
+  @Override
+  public HashCode getArtifactOnlyHashCode() {
+    return artifactOnlyHashCode;
+  }
+
+  /**
+   * @return The value of the {@code responseSizeBytes} attribute
+   */
+  @Override
+  public long getResponseSizeBytes() {
+    return responseSizeBytes;
+  }
+
+  /**
+   * @return The value of the {@code metadata} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getMetadata() {
+    return metadata;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getRawKeys() rawKeys}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final StoreResponseReadResult withRawKeys(RuleKey... elements) {
+    ImmutableSet<RuleKey> newValue = ImmutableSet.copyOf(elements);
+    return new StoreResponseReadResult(
+        newValue,
+        this.ruleKeys,
+        this.expectedHashCode,
+        this.actualHashCode,
+        this.artifactOnlyHashCode,
+        this.responseSizeBytes,
+        this.metadata);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getRawKeys() rawKeys}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of rawKeys elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final StoreResponseReadResult withRawKeys(Iterable<? extends RuleKey> elements) {
+    if (this.rawKeys == elements) return this;
+    ImmutableSet<RuleKey> newValue = ImmutableSet.copyOf(elements);
+    return new StoreResponseReadResult(
+        newValue,
+        this.ruleKeys,
+        this.expectedHashCode,
+        this.actualHashCode,
+        this.artifactOnlyHashCode,
+        this.responseSizeBytes,
+        this.metadata);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getRuleKeys() ruleKeys}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final StoreResponseReadResult withRuleKeys(RuleKey... elements) {
+    ImmutableSet<RuleKey> newValue = ImmutableSet.copyOf(elements);
+    return new StoreResponseReadResult(
+        this.rawKeys,
+        newValue,
+        this.expectedHashCode,
+        this.actualHashCode,
+        this.artifactOnlyHashCode,
+        this.responseSizeBytes,
+        this.metadata);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getRuleKeys() ruleKeys}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of ruleKeys elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final StoreResponseReadResult withRuleKeys(Iterable<? extends RuleKey> elements) {
+    if (this.ruleKeys == elements) return this;
+    ImmutableSet<RuleKey> newValue = ImmutableSet.copyOf(elements);
+    return new StoreResponseReadResult(
+        this.rawKeys,
+        newValue,
+        this.expectedHashCode,
+        this.actualHashCode,
+        this.artifactOnlyHashCode,
+        this.responseSizeBytes,
+        this.metadata);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getExpectedHashCode() expectedHashCode} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for expectedHashCode
+   * @return A modified copy of the {@code this} object
+   */
+  public final StoreResponseReadResult withExpectedHashCode(HashCode value) {
+    if (this.expectedHashCode == value) return this;
+    HashCode newValue = Objects.requireNonNull(value, "expectedHashCode");
+    return new StoreResponseReadResult(
+        this.rawKeys,
+        this.ruleKeys,
+        newValue,
+        this.actualHashCode,
+        this.artifactOnlyHashCode,
+        this.responseSizeBytes,
+        this.metadata);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getActualHashCode() actualHashCode} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for actualHashCode
+   * @return A modified copy of the {@code this} object
+   */
+  public final StoreResponseReadResult withActualHashCode(HashCode value) {
+    if (this.actualHashCode == value) return this;
+    HashCode newValue = Objects.requireNonNull(value, "actualHashCode");
+    return new StoreResponseReadResult(
+        this.rawKeys,
+        this.ruleKeys,
+        this.expectedHashCode,
+        newValue,
+        this.artifactOnlyHashCode,
+        this.responseSizeBytes,
+        this.metadata);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getArtifactOnlyHashCode() artifactOnlyHashCode} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for artifactOnlyHashCode
+   * @return A modified copy of the {@code this} object
+   */
+  public final StoreResponseReadResult withArtifactOnlyHashCode(HashCode value) {
+    if (this.artifactOnlyHashCode == value) return this;
+    HashCode newValue = Objects.requireNonNull(value, "artifactOnlyHashCode");
+    return new StoreResponseReadResult(
+        this.rawKeys,
+        this.ruleKeys,
+        this.expectedHashCode,
+        this.actualHashCode,
+        newValue,
+        this.responseSizeBytes,
+        this.metadata);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getResponseSizeBytes() responseSizeBytes} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for responseSizeBytes
+   * @return A modified copy of the {@code this} object
+   */
+  public final StoreResponseReadResult withResponseSizeBytes(long value) {
+    if (this.responseSizeBytes == value) return this;
+    return new StoreResponseReadResult(
+        this.rawKeys,
+        this.ruleKeys,
+        this.expectedHashCode,
+        this.actualHashCode,
+        this.artifactOnlyHashCode,
+        value,
+        this.metadata);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getMetadata() metadata} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the metadata map
+   * @return A modified copy of {@code this} object
+   */
+  public final StoreResponseReadResult withMetadata(Map<String, ? extends String> entries) {
+    if (this.metadata == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new StoreResponseReadResult(
+        this.rawKeys,
+        this.ruleKeys,
+        this.expectedHashCode,
+        this.actualHashCode,
+        this.artifactOnlyHashCode,
+        this.responseSizeBytes,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code StoreResponseReadResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof StoreResponseReadResult
+        && equalTo((StoreResponseReadResult) another);
+  }
+
+  private boolean equalTo(StoreResponseReadResult another) {
+    return rawKeys.equals(another.rawKeys)
+        && ruleKeys.equals(another.ruleKeys)
+        && expectedHashCode.equals(another.expectedHashCode)
+        && actualHashCode.equals(another.actualHashCode)
+        && artifactOnlyHashCode.equals(another.artifactOnlyHashCode)
+        && responseSizeBytes == another.responseSizeBytes
+        && metadata.equals(another.metadata);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code rawKeys}, {@code ruleKeys}, {@code expectedHashCode}, {@code actualHashCode}, {@code artifactOnlyHashCode}, {@code responseSizeBytes}, {@code metadata}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + rawKeys.hashCode();
+    h += (h << 5) + ruleKeys.hashCode();
+    h += (h << 5) + expectedHashCode.hashCode();
+    h += (h << 5) + actualHashCode.hashCode();
+    h += (h << 5) + artifactOnlyHashCode.hashCode();
+    h += (h << 5) + Longs.hashCode(responseSizeBytes);
+    h += (h << 5) + metadata.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StoreResponseReadResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StoreResponseReadResult")
+        .omitNullValues()
+        .add("rawKeys", rawKeys)
+        .add("ruleKeys", ruleKeys)
+        .add("expectedHashCode", expectedHashCode)
+        .add("actualHashCode", actualHashCode)
+        .add("artifactOnlyHashCode", artifactOnlyHashCode)
+        .add("responseSizeBytes", responseSizeBytes)
+        .add("metadata", metadata)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable StoreResponseReadResult instance
+   */
+  static StoreResponseReadResult copyOf(HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult instance) {
+    if (instance instanceof StoreResponseReadResult) {
+      return (StoreResponseReadResult) instance;
+    }
+    return StoreResponseReadResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link StoreResponseReadResult StoreResponseReadResult}.
+   * @return A new StoreResponseReadResult builder
+   */
+  public static StoreResponseReadResult.Builder builder() {
+    return new StoreResponseReadResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link StoreResponseReadResult StoreResponseReadResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_EXPECTED_HASH_CODE = 0x1L;
+    private static final long INIT_BIT_ACTUAL_HASH_CODE = 0x2L;
+    private static final long INIT_BIT_ARTIFACT_ONLY_HASH_CODE = 0x4L;
+    private static final long INIT_BIT_RESPONSE_SIZE_BYTES = 0x8L;
+    private long initBits = 0xfL;
+
+    private ImmutableSet.Builder<RuleKey> rawKeys = ImmutableSet.builder();
+    private ImmutableSet.Builder<RuleKey> ruleKeys = ImmutableSet.builder();
+    private @Nullable HashCode expectedHashCode;
+    private @Nullable HashCode actualHashCode;
+    private @Nullable HashCode artifactOnlyHashCode;
+    private long responseSizeBytes;
+    private ImmutableMap.Builder<String, String> metadata = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code StoreResponseReadResult} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(StoreResponseReadResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractStoreResponseReadResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.artifact_cache.HttpArtifactCacheBinaryProtocol.MetadataAndPayloadReadResult} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HttpArtifactCacheBinaryProtocol.MetadataAndPayloadReadResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult) {
+        HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult instance = (HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult) object;
+        addAllRawKeys(instance.getRawKeys());
+      }
+      if (object instanceof HttpArtifactCacheBinaryProtocol.MetadataAndPayloadReadResult) {
+        HttpArtifactCacheBinaryProtocol.MetadataAndPayloadReadResult instance = (HttpArtifactCacheBinaryProtocol.MetadataAndPayloadReadResult) object;
+        setArtifactOnlyHashCode(instance.getArtifactOnlyHashCode());
+        setExpectedHashCode(instance.getExpectedHashCode());
+        putAllMetadata(instance.getMetadata());
+        setResponseSizeBytes(instance.getResponseSizeBytes());
+        addAllRuleKeys(instance.getRuleKeys());
+        setActualHashCode(instance.getActualHashCode());
+      }
+    }
+
+    /**
+     * Adds one element to {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getRawKeys() rawKeys} set.
+     * @param element A rawKeys element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRawKeys(RuleKey element) {
+      this.rawKeys.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getRawKeys() rawKeys} set.
+     * @param elements An array of rawKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRawKeys(RuleKey... elements) {
+      this.rawKeys.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getRawKeys() rawKeys} set.
+     * @param elements An iterable of rawKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRawKeys(Iterable<? extends RuleKey> elements) {
+      this.rawKeys = ImmutableSet.builder();
+      return addAllRawKeys(elements);
+    }
+
+    /**
+     * Adds elements to {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getRawKeys() rawKeys} set.
+     * @param elements An iterable of rawKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllRawKeys(Iterable<? extends RuleKey> elements) {
+      this.rawKeys.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getRuleKeys() ruleKeys} set.
+     * @param element A ruleKeys element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRuleKeys(RuleKey element) {
+      this.ruleKeys.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getRuleKeys() ruleKeys} set.
+     * @param elements An array of ruleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRuleKeys(RuleKey... elements) {
+      this.ruleKeys.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getRuleKeys() ruleKeys} set.
+     * @param elements An iterable of ruleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRuleKeys(Iterable<? extends RuleKey> elements) {
+      this.ruleKeys = ImmutableSet.builder();
+      return addAllRuleKeys(elements);
+    }
+
+    /**
+     * Adds elements to {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getRuleKeys() ruleKeys} set.
+     * @param elements An iterable of ruleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllRuleKeys(Iterable<? extends RuleKey> elements) {
+      this.ruleKeys.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getExpectedHashCode() expectedHashCode} attribute.
+     * @param expectedHashCode The value for expectedHashCode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExpectedHashCode(HashCode expectedHashCode) {
+      this.expectedHashCode = Objects.requireNonNull(expectedHashCode, "expectedHashCode");
+      initBits &= ~INIT_BIT_EXPECTED_HASH_CODE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getActualHashCode() actualHashCode} attribute.
+     * @param actualHashCode The value for actualHashCode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setActualHashCode(HashCode actualHashCode) {
+      this.actualHashCode = Objects.requireNonNull(actualHashCode, "actualHashCode");
+      initBits &= ~INIT_BIT_ACTUAL_HASH_CODE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getArtifactOnlyHashCode() artifactOnlyHashCode} attribute.
+     * @param artifactOnlyHashCode The value for artifactOnlyHashCode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setArtifactOnlyHashCode(HashCode artifactOnlyHashCode) {
+      this.artifactOnlyHashCode = Objects.requireNonNull(artifactOnlyHashCode, "artifactOnlyHashCode");
+      initBits &= ~INIT_BIT_ARTIFACT_ONLY_HASH_CODE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getResponseSizeBytes() responseSizeBytes} attribute.
+     * @param responseSizeBytes The value for responseSizeBytes 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResponseSizeBytes(long responseSizeBytes) {
+      this.responseSizeBytes = responseSizeBytes;
+      initBits &= ~INIT_BIT_RESPONSE_SIZE_BYTES;
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getMetadata() metadata} map.
+     * @param key The key in the metadata map
+     * @param value The associated value in the metadata map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putMetadata(String key, String value) {
+      this.metadata.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getMetadata() metadata} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putMetadata(Map.Entry<String, ? extends String> entry) {
+      this.metadata.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getMetadata() metadata} map. Nulls are not permitted
+     * @param metadata The entries that will be added to the metadata map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMetadata(Map<String, ? extends String> metadata) {
+      this.metadata = ImmutableMap.builder();
+      return putAllMetadata(metadata);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link HttpArtifactCacheBinaryProtocol.AbstractStoreResponseReadResult#getMetadata() metadata} map. Nulls are not permitted
+     * @param metadata The entries that will be added to the metadata map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllMetadata(Map<String, ? extends String> metadata) {
+      this.metadata.putAll(metadata);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link StoreResponseReadResult StoreResponseReadResult}.
+     * @return An immutable instance of StoreResponseReadResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public StoreResponseReadResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new StoreResponseReadResult(
+          rawKeys.build(),
+          ruleKeys.build(),
+          expectedHashCode,
+          actualHashCode,
+          artifactOnlyHashCode,
+          responseSizeBytes,
+          metadata.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_EXPECTED_HASH_CODE) != 0) attributes.add("expectedHashCode");
+      if ((initBits & INIT_BIT_ACTUAL_HASH_CODE) != 0) attributes.add("actualHashCode");
+      if ((initBits & INIT_BIT_ARTIFACT_ONLY_HASH_CODE) != 0) attributes.add("artifactOnlyHashCode");
+      if ((initBits & INIT_BIT_RESPONSE_SIZE_BYTES) != 0) attributes.add("responseSizeBytes");
+      return "Cannot build StoreResponseReadResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
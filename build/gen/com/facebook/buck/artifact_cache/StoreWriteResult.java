@@ -0,0 +1,224 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import com.google.common.primitives.Longs;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code StoreWriteResult.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult"})
+@Immutable
+public final class StoreWriteResult
+    extends HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult {
+  private final HashCode artifactContentHashCode;
+  private final long artifactSizeBytes;
+
+  private StoreWriteResult(HashCode artifactContentHashCode, long artifactSizeBytes) {
+    this.artifactContentHashCode = artifactContentHashCode;
+    this.artifactSizeBytes = artifactSizeBytes;
+  }
+
+  /**
+   * @return The value of the {@code artifactContentHashCode} attribute
+   */
+  @Override
+  public HashCode getArtifactContentHashCode() {
+    return artifactContentHashCode;
+  }
+
+  /**
+   * @return The value of the {@code artifactSizeBytes} attribute
+   */
+  @Override
+  public long getArtifactSizeBytes() {
+    return artifactSizeBytes;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult#getArtifactContentHashCode() artifactContentHashCode} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for artifactContentHashCode
+   * @return A modified copy of the {@code this} object
+   */
+  public final StoreWriteResult withArtifactContentHashCode(HashCode value) {
+    if (this.artifactContentHashCode == value) return this;
+    HashCode newValue = Objects.requireNonNull(value, "artifactContentHashCode");
+    return new StoreWriteResult(newValue, this.artifactSizeBytes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult#getArtifactSizeBytes() artifactSizeBytes} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for artifactSizeBytes
+   * @return A modified copy of the {@code this} object
+   */
+  public final StoreWriteResult withArtifactSizeBytes(long value) {
+    if (this.artifactSizeBytes == value) return this;
+    return new StoreWriteResult(this.artifactContentHashCode, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code StoreWriteResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof StoreWriteResult
+        && equalTo((StoreWriteResult) another);
+  }
+
+  private boolean equalTo(StoreWriteResult another) {
+    return artifactContentHashCode.equals(another.artifactContentHashCode)
+        && artifactSizeBytes == another.artifactSizeBytes;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code artifactContentHashCode}, {@code artifactSizeBytes}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + artifactContentHashCode.hashCode();
+    h += (h << 5) + Longs.hashCode(artifactSizeBytes);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StoreWriteResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StoreWriteResult")
+        .omitNullValues()
+        .add("artifactContentHashCode", artifactContentHashCode)
+        .add("artifactSizeBytes", artifactSizeBytes)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable StoreWriteResult instance
+   */
+  static StoreWriteResult copyOf(HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult instance) {
+    if (instance instanceof StoreWriteResult) {
+      return (StoreWriteResult) instance;
+    }
+    return StoreWriteResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link StoreWriteResult StoreWriteResult}.
+   * @return A new StoreWriteResult builder
+   */
+  public static StoreWriteResult.Builder builder() {
+    return new StoreWriteResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link StoreWriteResult StoreWriteResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_ARTIFACT_CONTENT_HASH_CODE = 0x1L;
+    private static final long INIT_BIT_ARTIFACT_SIZE_BYTES = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable HashCode artifactContentHashCode;
+    private long artifactSizeBytes;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code StoreWriteResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(StoreWriteResult instance) {
+      return from((HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractStoreWriteResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setArtifactContentHashCode(instance.getArtifactContentHashCode());
+      setArtifactSizeBytes(instance.getArtifactSizeBytes());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult#getArtifactContentHashCode() artifactContentHashCode} attribute.
+     * @param artifactContentHashCode The value for artifactContentHashCode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setArtifactContentHashCode(HashCode artifactContentHashCode) {
+      this.artifactContentHashCode = Objects.requireNonNull(artifactContentHashCode, "artifactContentHashCode");
+      initBits &= ~INIT_BIT_ARTIFACT_CONTENT_HASH_CODE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult#getArtifactSizeBytes() artifactSizeBytes} attribute.
+     * @param artifactSizeBytes The value for artifactSizeBytes 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setArtifactSizeBytes(long artifactSizeBytes) {
+      this.artifactSizeBytes = artifactSizeBytes;
+      initBits &= ~INIT_BIT_ARTIFACT_SIZE_BYTES;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link StoreWriteResult StoreWriteResult}.
+     * @return An immutable instance of StoreWriteResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public StoreWriteResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new StoreWriteResult(artifactContentHashCode, artifactSizeBytes);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_ARTIFACT_CONTENT_HASH_CODE) != 0) attributes.add("artifactContentHashCode");
+      if ((initBits & INIT_BIT_ARTIFACT_SIZE_BYTES) != 0) attributes.add("artifactSizeBytes");
+      return "Cannot build StoreWriteResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
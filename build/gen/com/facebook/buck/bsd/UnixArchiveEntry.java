@@ -0,0 +1,477 @@
+package com.facebook.buck.bsd;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractUnixArchiveEntry}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code UnixArchiveEntry.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractUnixArchiveEntry"})
+@Immutable
+public final class UnixArchiveEntry implements AbstractUnixArchiveEntry {
+  private final int fileNameLength;
+  private final long fileModificationTimestamp;
+  private final int ownerId;
+  private final int groupId;
+  private final int fileMode;
+  private final long fileSize;
+  private final String fileName;
+  private final long headerOffset;
+  private final long headerSize;
+  private final long fileOffset;
+
+  private UnixArchiveEntry(
+      int fileNameLength,
+      long fileModificationTimestamp,
+      int ownerId,
+      int groupId,
+      int fileMode,
+      long fileSize,
+      String fileName,
+      long headerOffset,
+      long headerSize,
+      long fileOffset) {
+    this.fileNameLength = fileNameLength;
+    this.fileModificationTimestamp = fileModificationTimestamp;
+    this.ownerId = ownerId;
+    this.groupId = groupId;
+    this.fileMode = fileMode;
+    this.fileSize = fileSize;
+    this.fileName = Objects.requireNonNull(fileName, "fileName");
+    this.headerOffset = headerOffset;
+    this.headerSize = headerSize;
+    this.fileOffset = fileOffset;
+  }
+
+  private UnixArchiveEntry(
+      UnixArchiveEntry original,
+      int fileNameLength,
+      long fileModificationTimestamp,
+      int ownerId,
+      int groupId,
+      int fileMode,
+      long fileSize,
+      String fileName,
+      long headerOffset,
+      long headerSize,
+      long fileOffset) {
+    this.fileNameLength = fileNameLength;
+    this.fileModificationTimestamp = fileModificationTimestamp;
+    this.ownerId = ownerId;
+    this.groupId = groupId;
+    this.fileMode = fileMode;
+    this.fileSize = fileSize;
+    this.fileName = fileName;
+    this.headerOffset = headerOffset;
+    this.headerSize = headerSize;
+    this.fileOffset = fileOffset;
+  }
+
+  /**
+   * @return The value of the {@code fileNameLength} attribute
+   */
+  @Override
+  public int getFileNameLength() {
+    return fileNameLength;
+  }
+
+  /**
+   * @return The value of the {@code fileModificationTimestamp} attribute
+   */
+  @Override
+  public long getFileModificationTimestamp() {
+    return fileModificationTimestamp;
+  }
+
+  /**
+   * @return The value of the {@code ownerId} attribute
+   */
+  @Override
+  public int getOwnerId() {
+    return ownerId;
+  }
+
+  /**
+   * @return The value of the {@code groupId} attribute
+   */
+  @Override
+  public int getGroupId() {
+    return groupId;
+  }
+
+  /**
+   * @return The value of the {@code fileMode} attribute
+   */
+  @Override
+  public int getFileMode() {
+    return fileMode;
+  }
+
+  /**
+   * @return The value of the {@code fileSize} attribute
+   */
+  @Override
+  public long getFileSize() {
+    return fileSize;
+  }
+
+  /**
+   * @return The value of the {@code fileName} attribute
+   */
+  @Override
+  public String getFileName() {
+    return fileName;
+  }
+
+  /**
+   * @return The value of the {@code headerOffset} attribute
+   */
+  @Override
+  public long getHeaderOffset() {
+    return headerOffset;
+  }
+
+  /**
+   * @return The value of the {@code headerSize} attribute
+   */
+  @Override
+  public long getHeaderSize() {
+    return headerSize;
+  }
+
+  /**
+   * @return The value of the {@code fileOffset} attribute
+   */
+  @Override
+  public long getFileOffset() {
+    return fileOffset;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUnixArchiveEntry#getFileNameLength() fileNameLength} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fileNameLength
+   * @return A modified copy of the {@code this} object
+   */
+  public final UnixArchiveEntry withFileNameLength(int value) {
+    if (this.fileNameLength == value) return this;
+    return new UnixArchiveEntry(
+        this,
+        value,
+        this.fileModificationTimestamp,
+        this.ownerId,
+        this.groupId,
+        this.fileMode,
+        this.fileSize,
+        this.fileName,
+        this.headerOffset,
+        this.headerSize,
+        this.fileOffset);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUnixArchiveEntry#getFileModificationTimestamp() fileModificationTimestamp} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fileModificationTimestamp
+   * @return A modified copy of the {@code this} object
+   */
+  public final UnixArchiveEntry withFileModificationTimestamp(long value) {
+    if (this.fileModificationTimestamp == value) return this;
+    return new UnixArchiveEntry(
+        this,
+        this.fileNameLength,
+        value,
+        this.ownerId,
+        this.groupId,
+        this.fileMode,
+        this.fileSize,
+        this.fileName,
+        this.headerOffset,
+        this.headerSize,
+        this.fileOffset);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUnixArchiveEntry#getOwnerId() ownerId} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ownerId
+   * @return A modified copy of the {@code this} object
+   */
+  public final UnixArchiveEntry withOwnerId(int value) {
+    if (this.ownerId == value) return this;
+    return new UnixArchiveEntry(
+        this,
+        this.fileNameLength,
+        this.fileModificationTimestamp,
+        value,
+        this.groupId,
+        this.fileMode,
+        this.fileSize,
+        this.fileName,
+        this.headerOffset,
+        this.headerSize,
+        this.fileOffset);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUnixArchiveEntry#getGroupId() groupId} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for groupId
+   * @return A modified copy of the {@code this} object
+   */
+  public final UnixArchiveEntry withGroupId(int value) {
+    if (this.groupId == value) return this;
+    return new UnixArchiveEntry(
+        this,
+        this.fileNameLength,
+        this.fileModificationTimestamp,
+        this.ownerId,
+        value,
+        this.fileMode,
+        this.fileSize,
+        this.fileName,
+        this.headerOffset,
+        this.headerSize,
+        this.fileOffset);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUnixArchiveEntry#getFileMode() fileMode} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fileMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final UnixArchiveEntry withFileMode(int value) {
+    if (this.fileMode == value) return this;
+    return new UnixArchiveEntry(
+        this,
+        this.fileNameLength,
+        this.fileModificationTimestamp,
+        this.ownerId,
+        this.groupId,
+        value,
+        this.fileSize,
+        this.fileName,
+        this.headerOffset,
+        this.headerSize,
+        this.fileOffset);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUnixArchiveEntry#getFileSize() fileSize} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fileSize
+   * @return A modified copy of the {@code this} object
+   */
+  public final UnixArchiveEntry withFileSize(long value) {
+    if (this.fileSize == value) return this;
+    return new UnixArchiveEntry(
+        this,
+        this.fileNameLength,
+        this.fileModificationTimestamp,
+        this.ownerId,
+        this.groupId,
+        this.fileMode,
+        value,
+        this.fileName,
+        this.headerOffset,
+        this.headerSize,
+        this.fileOffset);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUnixArchiveEntry#getFileName() fileName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fileName
+   * @return A modified copy of the {@code this} object
+   */
+  public final UnixArchiveEntry withFileName(String value) {
+    if (this.fileName.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "fileName");
+    return new UnixArchiveEntry(
+        this,
+        this.fileNameLength,
+        this.fileModificationTimestamp,
+        this.ownerId,
+        this.groupId,
+        this.fileMode,
+        this.fileSize,
+        newValue,
+        this.headerOffset,
+        this.headerSize,
+        this.fileOffset);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUnixArchiveEntry#getHeaderOffset() headerOffset} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for headerOffset
+   * @return A modified copy of the {@code this} object
+   */
+  public final UnixArchiveEntry withHeaderOffset(long value) {
+    if (this.headerOffset == value) return this;
+    return new UnixArchiveEntry(
+        this,
+        this.fileNameLength,
+        this.fileModificationTimestamp,
+        this.ownerId,
+        this.groupId,
+        this.fileMode,
+        this.fileSize,
+        this.fileName,
+        value,
+        this.headerSize,
+        this.fileOffset);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUnixArchiveEntry#getHeaderSize() headerSize} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for headerSize
+   * @return A modified copy of the {@code this} object
+   */
+  public final UnixArchiveEntry withHeaderSize(long value) {
+    if (this.headerSize == value) return this;
+    return new UnixArchiveEntry(
+        this,
+        this.fileNameLength,
+        this.fileModificationTimestamp,
+        this.ownerId,
+        this.groupId,
+        this.fileMode,
+        this.fileSize,
+        this.fileName,
+        this.headerOffset,
+        value,
+        this.fileOffset);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUnixArchiveEntry#getFileOffset() fileOffset} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fileOffset
+   * @return A modified copy of the {@code this} object
+   */
+  public final UnixArchiveEntry withFileOffset(long value) {
+    if (this.fileOffset == value) return this;
+    return new UnixArchiveEntry(
+        this,
+        this.fileNameLength,
+        this.fileModificationTimestamp,
+        this.ownerId,
+        this.groupId,
+        this.fileMode,
+        this.fileSize,
+        this.fileName,
+        this.headerOffset,
+        this.headerSize,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code UnixArchiveEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof UnixArchiveEntry
+        && equalTo((UnixArchiveEntry) another);
+  }
+
+  private boolean equalTo(UnixArchiveEntry another) {
+    return fileNameLength == another.fileNameLength
+        && fileModificationTimestamp == another.fileModificationTimestamp
+        && ownerId == another.ownerId
+        && groupId == another.groupId
+        && fileMode == another.fileMode
+        && fileSize == another.fileSize
+        && fileName.equals(another.fileName)
+        && headerOffset == another.headerOffset
+        && headerSize == another.headerSize
+        && fileOffset == another.fileOffset;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code fileNameLength}, {@code fileModificationTimestamp}, {@code ownerId}, {@code groupId}, {@code fileMode}, {@code fileSize}, {@code fileName}, {@code headerOffset}, {@code headerSize}, {@code fileOffset}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + fileNameLength;
+    h += (h << 5) + Longs.hashCode(fileModificationTimestamp);
+    h += (h << 5) + ownerId;
+    h += (h << 5) + groupId;
+    h += (h << 5) + fileMode;
+    h += (h << 5) + Longs.hashCode(fileSize);
+    h += (h << 5) + fileName.hashCode();
+    h += (h << 5) + Longs.hashCode(headerOffset);
+    h += (h << 5) + Longs.hashCode(headerSize);
+    h += (h << 5) + Longs.hashCode(fileOffset);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code UnixArchiveEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("UnixArchiveEntry")
+        .omitNullValues()
+        .add("fileNameLength", fileNameLength)
+        .add("fileModificationTimestamp", fileModificationTimestamp)
+        .add("ownerId", ownerId)
+        .add("groupId", groupId)
+        .add("fileMode", fileMode)
+        .add("fileSize", fileSize)
+        .add("fileName", fileName)
+        .add("headerOffset", headerOffset)
+        .add("headerSize", headerSize)
+        .add("fileOffset", fileOffset)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code UnixArchiveEntry} instance.
+   * @param fileNameLength The value for the {@code fileNameLength} attribute
+   * @param fileModificationTimestamp The value for the {@code fileModificationTimestamp} attribute
+   * @param ownerId The value for the {@code ownerId} attribute
+   * @param groupId The value for the {@code groupId} attribute
+   * @param fileMode The value for the {@code fileMode} attribute
+   * @param fileSize The value for the {@code fileSize} attribute
+   * @param fileName The value for the {@code fileName} attribute
+   * @param headerOffset The value for the {@code headerOffset} attribute
+   * @param headerSize The value for the {@code headerSize} attribute
+   * @param fileOffset The value for the {@code fileOffset} attribute
+   * @return An immutable UnixArchiveEntry instance
+   */
+  public static UnixArchiveEntry of(int fileNameLength, long fileModificationTimestamp, int ownerId, int groupId, int fileMode, long fileSize, String fileName, long headerOffset, long headerSize, long fileOffset) {
+    return new UnixArchiveEntry(fileNameLength, fileModificationTimestamp, ownerId, groupId, fileMode, fileSize, fileName, headerOffset, headerSize, fileOffset);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractUnixArchiveEntry} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable UnixArchiveEntry instance
+   */
+  static UnixArchiveEntry copyOf(AbstractUnixArchiveEntry instance) {
+    if (instance instanceof UnixArchiveEntry) {
+      return (UnixArchiveEntry) instance;
+    }
+    return UnixArchiveEntry.of(instance.getFileNameLength(), instance.getFileModificationTimestamp(), instance.getOwnerId(), instance.getGroupId(), instance.getFileMode(), instance.getFileSize(), instance.getFileName(), instance.getHeaderOffset(), instance.getHeaderSize(), instance.getFileOffset());
+  }
+}
@@ -0,0 +1,2665 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.android.AndroidPlatformTarget;
+import com.facebook.buck.artifact_cache.ArtifactCacheFactory;
+import com.facebook.buck.config.BuckConfig;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.httpserver.WebServer;
+import com.facebook.buck.io.filesystem.ProjectFilesystemFactory;
+import com.facebook.buck.jvm.core.JavaPackageFinder;
+import com.facebook.buck.log.InvocationInfo;
+import com.facebook.buck.parser.Parser;
+import com.facebook.buck.rules.ActionGraphCache;
+import com.facebook.buck.rules.BuildInfoStoreManager;
+import com.facebook.buck.rules.Cell;
+import com.facebook.buck.rules.KnownBuildRuleTypesFactory;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.rules.SdkEnvironment;
+import com.facebook.buck.rules.coercer.TypeCoercerFactory;
+import com.facebook.buck.rules.keys.RuleKeyCacheRecycler;
+import com.facebook.buck.step.ExecutorPool;
+import com.facebook.buck.timing.Clock;
+import com.facebook.buck.toolchain.ToolchainProvider;
+import com.facebook.buck.util.Console;
+import com.facebook.buck.util.ProcessManager;
+import com.facebook.buck.util.cache.impl.StackedFileHashCache;
+import com.facebook.buck.util.environment.BuildEnvironmentDescription;
+import com.facebook.buck.util.environment.Platform;
+import com.facebook.buck.util.versioncontrol.VersionControlStatsGenerator;
+import com.facebook.buck.versions.VersionedTargetGraphCache;
+import com.facebook.buck.worker.WorkerProcessPool;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCommandRunnerParams}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CommandRunnerParams.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCommandRunnerParams"})
+@Immutable
+public final class CommandRunnerParams implements AbstractCommandRunnerParams {
+  private final Console console;
+  private final InputStream stdIn;
+  private final Cell cell;
+  private final VersionedTargetGraphCache versionedTargetGraphCache;
+  private final ArtifactCacheFactory artifactCacheFactory;
+  private final TypeCoercerFactory typeCoercerFactory;
+  private final Parser parser;
+  private final BuckEventBus buckEventBus;
+  private final Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier;
+  private final Platform platform;
+  private final ImmutableMap<String, String> environment;
+  private final JavaPackageFinder javaPackageFinder;
+  private final Clock clock;
+  private final VersionControlStatsGenerator versionControlStatsGenerator;
+  private final @Nullable ProcessManager processManager;
+  private final @Nullable WebServer webServer;
+  private final @Nullable ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools;
+  private final BuckConfig buckConfig;
+  private final StackedFileHashCache fileHashCache;
+  private final ImmutableMap<ExecutorPool, ListeningExecutorService> executors;
+  private final ScheduledExecutorService scheduledExecutor;
+  private final BuildEnvironmentDescription buildEnvironmentDescription;
+  private final ActionGraphCache actionGraphCache;
+  private final KnownBuildRuleTypesFactory knownBuildRuleTypesFactory;
+  private final SdkEnvironment sdkEnvironment;
+  private final BuildInfoStoreManager buildInfoStoreManager;
+  private final @Nullable InvocationInfo invocationInfo;
+  private final @Nullable RuleKeyCacheRecycler<RuleKey> defaultRuleKeyFactoryCacheRecycler;
+  private final ProjectFilesystemFactory projectFilesystemFactory;
+  private final ToolchainProvider toolchainProvider;
+
+  private CommandRunnerParams(
+      Console console,
+      InputStream stdIn,
+      Cell cell,
+      VersionedTargetGraphCache versionedTargetGraphCache,
+      ArtifactCacheFactory artifactCacheFactory,
+      TypeCoercerFactory typeCoercerFactory,
+      Parser parser,
+      BuckEventBus buckEventBus,
+      Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier,
+      Platform platform,
+      ImmutableMap<String, String> environment,
+      JavaPackageFinder javaPackageFinder,
+      Clock clock,
+      VersionControlStatsGenerator versionControlStatsGenerator,
+      @Nullable ProcessManager processManager,
+      @Nullable WebServer webServer,
+      @Nullable ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools,
+      BuckConfig buckConfig,
+      StackedFileHashCache fileHashCache,
+      ImmutableMap<ExecutorPool, ListeningExecutorService> executors,
+      ScheduledExecutorService scheduledExecutor,
+      BuildEnvironmentDescription buildEnvironmentDescription,
+      ActionGraphCache actionGraphCache,
+      KnownBuildRuleTypesFactory knownBuildRuleTypesFactory,
+      SdkEnvironment sdkEnvironment,
+      BuildInfoStoreManager buildInfoStoreManager,
+      @Nullable InvocationInfo invocationInfo,
+      @Nullable RuleKeyCacheRecycler<RuleKey> defaultRuleKeyFactoryCacheRecycler,
+      ProjectFilesystemFactory projectFilesystemFactory,
+      ToolchainProvider toolchainProvider) {
+    this.console = console;
+    this.stdIn = stdIn;
+    this.cell = cell;
+    this.versionedTargetGraphCache = versionedTargetGraphCache;
+    this.artifactCacheFactory = artifactCacheFactory;
+    this.typeCoercerFactory = typeCoercerFactory;
+    this.parser = parser;
+    this.buckEventBus = buckEventBus;
+    this.androidPlatformTargetSupplier = androidPlatformTargetSupplier;
+    this.platform = platform;
+    this.environment = environment;
+    this.javaPackageFinder = javaPackageFinder;
+    this.clock = clock;
+    this.versionControlStatsGenerator = versionControlStatsGenerator;
+    this.processManager = processManager;
+    this.webServer = webServer;
+    this.persistentWorkerPools = persistentWorkerPools;
+    this.buckConfig = buckConfig;
+    this.fileHashCache = fileHashCache;
+    this.executors = executors;
+    this.scheduledExecutor = scheduledExecutor;
+    this.buildEnvironmentDescription = buildEnvironmentDescription;
+    this.actionGraphCache = actionGraphCache;
+    this.knownBuildRuleTypesFactory = knownBuildRuleTypesFactory;
+    this.sdkEnvironment = sdkEnvironment;
+    this.buildInfoStoreManager = buildInfoStoreManager;
+    this.invocationInfo = invocationInfo;
+    this.defaultRuleKeyFactoryCacheRecycler = defaultRuleKeyFactoryCacheRecycler;
+    this.projectFilesystemFactory = projectFilesystemFactory;
+    this.toolchainProvider = toolchainProvider;
+  }
+
+  /**
+   * @return The value of the {@code console} attribute
+   */
+  @Override
+  public Console getConsole() {
+    return console;
+  }
+
+  /**
+   * @return The value of the {@code stdIn} attribute
+   */
+  @Override
+  public InputStream getStdIn() {
+    return stdIn;
+  }
+
+  /**
+   * @return The value of the {@code cell} attribute
+   */
+  @Override
+  public Cell getCell() {
+    return cell;
+  }
+
+  /**
+   * @return The value of the {@code versionedTargetGraphCache} attribute
+   */
+  @Override
+  public VersionedTargetGraphCache getVersionedTargetGraphCache() {
+    return versionedTargetGraphCache;
+  }
+
+  /**
+   * @return The value of the {@code artifactCacheFactory} attribute
+   */
+  @Override
+  public ArtifactCacheFactory getArtifactCacheFactory() {
+    return artifactCacheFactory;
+  }
+
+  /**
+   * @return The value of the {@code typeCoercerFactory} attribute
+   */
+  @Override
+  public TypeCoercerFactory getTypeCoercerFactory() {
+    return typeCoercerFactory;
+  }
+
+  /**
+   * @return The value of the {@code parser} attribute
+   */
+  @Override
+  public Parser getParser() {
+    return parser;
+  }
+
+  /**
+   * @return The value of the {@code buckEventBus} attribute
+   */
+  @Override
+  public BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return The value of the {@code androidPlatformTargetSupplier} attribute
+   */
+  @Override
+  public Supplier<AndroidPlatformTarget> getAndroidPlatformTargetSupplier() {
+    return androidPlatformTargetSupplier;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Platform getPlatform() {
+    return platform;
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code javaPackageFinder} attribute
+   */
+  @Override
+  public JavaPackageFinder getJavaPackageFinder() {
+    return javaPackageFinder;
+  }
+
+  /**
+   * @return The value of the {@code clock} attribute
+   */
+  @Override
+  public Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * @return The value of the {@code versionControlStatsGenerator} attribute
+   */
+  @Override
+  public VersionControlStatsGenerator getVersionControlStatsGenerator() {
+    return versionControlStatsGenerator;
+  }
+
+  /**
+   * @return The value of the {@code processManager} attribute
+   */
+  @Override
+  public Optional<ProcessManager> getProcessManager() {
+    return Optional.ofNullable(processManager);
+  }
+
+  /**
+   * @return The value of the {@code webServer} attribute
+   */
+  @Override
+  public Optional<WebServer> getWebServer() {
+    return Optional.ofNullable(webServer);
+  }
+
+  /**
+   * @return The value of the {@code persistentWorkerPools} attribute
+   */
+  @Override
+  public Optional<ConcurrentMap<String, WorkerProcessPool>> getPersistentWorkerPools() {
+    return Optional.ofNullable(persistentWorkerPools);
+  }
+
+  /**
+   * @return The value of the {@code buckConfig} attribute
+   */
+  @Override
+  public BuckConfig getBuckConfig() {
+    return buckConfig;
+  }
+
+  /**
+   * @return The value of the {@code fileHashCache} attribute
+   */
+  @Override
+  public StackedFileHashCache getFileHashCache() {
+    return fileHashCache;
+  }
+
+  /**
+   * @return The value of the {@code executors} attribute
+   */
+  @Override
+  public ImmutableMap<ExecutorPool, ListeningExecutorService> getExecutors() {
+    return executors;
+  }
+
+  /**
+   * @return The value of the {@code scheduledExecutor} attribute
+   */
+  @Override
+  public ScheduledExecutorService getScheduledExecutor() {
+    return scheduledExecutor;
+  }
+
+  /**
+   * @return The value of the {@code buildEnvironmentDescription} attribute
+   */
+  @Override
+  public BuildEnvironmentDescription getBuildEnvironmentDescription() {
+    return buildEnvironmentDescription;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphCache} attribute
+   */
+  @Override
+  public ActionGraphCache getActionGraphCache() {
+    return actionGraphCache;
+  }
+
+  /**
+   * @return The value of the {@code knownBuildRuleTypesFactory} attribute
+   */
+  @Override
+  public KnownBuildRuleTypesFactory getKnownBuildRuleTypesFactory() {
+    return knownBuildRuleTypesFactory;
+  }
+
+  /**
+   * @return The value of the {@code sdkEnvironment} attribute
+   */
+  @Override
+  public SdkEnvironment getSdkEnvironment() {
+    return sdkEnvironment;
+  }
+
+  /**
+   * @return The value of the {@code buildInfoStoreManager} attribute
+   */
+  @Override
+  public BuildInfoStoreManager getBuildInfoStoreManager() {
+    return buildInfoStoreManager;
+  }
+
+  /**
+   * @return The value of the {@code invocationInfo} attribute
+   */
+  @Override
+  public Optional<InvocationInfo> getInvocationInfo() {
+    return Optional.ofNullable(invocationInfo);
+  }
+
+  /**
+   * @return The value of the {@code defaultRuleKeyFactoryCacheRecycler} attribute
+   */
+  @Override
+  public Optional<RuleKeyCacheRecycler<RuleKey>> getDefaultRuleKeyFactoryCacheRecycler() {
+    return Optional.ofNullable(defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystemFactory} attribute
+   */
+  @Override
+  public ProjectFilesystemFactory getProjectFilesystemFactory() {
+    return projectFilesystemFactory;
+  }
+
+  /**
+   * @return The value of the {@code toolchainProvider} attribute
+   */
+  @Override
+  public ToolchainProvider getToolchainProvider() {
+    return toolchainProvider;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getConsole() console} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for console
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withConsole(Console value) {
+    if (this.console == value) return this;
+    Console newValue = Objects.requireNonNull(value, "console");
+    return new CommandRunnerParams(
+        newValue,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getStdIn() stdIn} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for stdIn
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withStdIn(InputStream value) {
+    if (this.stdIn == value) return this;
+    InputStream newValue = Objects.requireNonNull(value, "stdIn");
+    return new CommandRunnerParams(
+        this.console,
+        newValue,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getCell() cell} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cell
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withCell(Cell value) {
+    if (this.cell == value) return this;
+    Cell newValue = Objects.requireNonNull(value, "cell");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        newValue,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getVersionedTargetGraphCache() versionedTargetGraphCache} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for versionedTargetGraphCache
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withVersionedTargetGraphCache(VersionedTargetGraphCache value) {
+    if (this.versionedTargetGraphCache == value) return this;
+    VersionedTargetGraphCache newValue = Objects.requireNonNull(value, "versionedTargetGraphCache");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        newValue,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getArtifactCacheFactory() artifactCacheFactory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for artifactCacheFactory
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withArtifactCacheFactory(ArtifactCacheFactory value) {
+    if (this.artifactCacheFactory == value) return this;
+    ArtifactCacheFactory newValue = Objects.requireNonNull(value, "artifactCacheFactory");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        newValue,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getTypeCoercerFactory() typeCoercerFactory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for typeCoercerFactory
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withTypeCoercerFactory(TypeCoercerFactory value) {
+    if (this.typeCoercerFactory == value) return this;
+    TypeCoercerFactory newValue = Objects.requireNonNull(value, "typeCoercerFactory");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        newValue,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getParser() parser} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for parser
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withParser(Parser value) {
+    if (this.parser == value) return this;
+    Parser newValue = Objects.requireNonNull(value, "parser");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        newValue,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getBuckEventBus() buckEventBus} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckEventBus
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withBuckEventBus(BuckEventBus value) {
+    if (this.buckEventBus == value) return this;
+    BuckEventBus newValue = Objects.requireNonNull(value, "buckEventBus");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        newValue,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getAndroidPlatformTargetSupplier() androidPlatformTargetSupplier} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for androidPlatformTargetSupplier
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withAndroidPlatformTargetSupplier(Supplier<AndroidPlatformTarget> value) {
+    if (this.androidPlatformTargetSupplier == value) return this;
+    Supplier<AndroidPlatformTarget> newValue = Objects.requireNonNull(value, "androidPlatformTargetSupplier");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        newValue,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getPlatform() platform} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platform
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withPlatform(Platform value) {
+    if (this.platform == value) return this;
+    Platform newValue = Objects.requireNonNull(value, "platform");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        newValue,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCommandRunnerParams#getEnvironment() environment} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the environment map
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withEnvironment(Map<String, ? extends String> entries) {
+    if (this.environment == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        newValue,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getJavaPackageFinder() javaPackageFinder} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for javaPackageFinder
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withJavaPackageFinder(JavaPackageFinder value) {
+    if (this.javaPackageFinder == value) return this;
+    JavaPackageFinder newValue = Objects.requireNonNull(value, "javaPackageFinder");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        newValue,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getClock() clock} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for clock
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withClock(Clock value) {
+    if (this.clock == value) return this;
+    Clock newValue = Objects.requireNonNull(value, "clock");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        newValue,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getVersionControlStatsGenerator() versionControlStatsGenerator} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for versionControlStatsGenerator
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withVersionControlStatsGenerator(VersionControlStatsGenerator value) {
+    if (this.versionControlStatsGenerator == value) return this;
+    VersionControlStatsGenerator newValue = Objects.requireNonNull(value, "versionControlStatsGenerator");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        newValue,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCommandRunnerParams#getProcessManager() processManager} attribute.
+   * @param value The value for processManager
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withProcessManager(ProcessManager value) {
+    @Nullable ProcessManager newValue = Objects.requireNonNull(value, "processManager");
+    if (this.processManager == newValue) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        newValue,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCommandRunnerParams#getProcessManager() processManager} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for processManager
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withProcessManager(Optional<? extends ProcessManager> optional) {
+    @Nullable ProcessManager value = optional.orElse(null);
+    if (this.processManager == value) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        value,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCommandRunnerParams#getWebServer() webServer} attribute.
+   * @param value The value for webServer
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withWebServer(WebServer value) {
+    @Nullable WebServer newValue = Objects.requireNonNull(value, "webServer");
+    if (this.webServer == newValue) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        newValue,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCommandRunnerParams#getWebServer() webServer} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for webServer
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withWebServer(Optional<? extends WebServer> optional) {
+    @Nullable WebServer value = optional.orElse(null);
+    if (this.webServer == value) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        value,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCommandRunnerParams#getPersistentWorkerPools() persistentWorkerPools} attribute.
+   * @param value The value for persistentWorkerPools
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withPersistentWorkerPools(ConcurrentMap<String, WorkerProcessPool> value) {
+    @Nullable ConcurrentMap<String, WorkerProcessPool> newValue = Objects.requireNonNull(value, "persistentWorkerPools");
+    if (this.persistentWorkerPools == newValue) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        newValue,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCommandRunnerParams#getPersistentWorkerPools() persistentWorkerPools} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for persistentWorkerPools
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withPersistentWorkerPools(Optional<? extends ConcurrentMap<String, WorkerProcessPool>> optional) {
+    @Nullable ConcurrentMap<String, WorkerProcessPool> value = optional.orElse(null);
+    if (this.persistentWorkerPools == value) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        value,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getBuckConfig() buckConfig} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckConfig
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withBuckConfig(BuckConfig value) {
+    if (this.buckConfig == value) return this;
+    BuckConfig newValue = Objects.requireNonNull(value, "buckConfig");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        newValue,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getFileHashCache() fileHashCache} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fileHashCache
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withFileHashCache(StackedFileHashCache value) {
+    if (this.fileHashCache == value) return this;
+    StackedFileHashCache newValue = Objects.requireNonNull(value, "fileHashCache");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        newValue,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCommandRunnerParams#getExecutors() executors} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the executors map
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> entries) {
+    if (this.executors == entries) return this;
+    ImmutableMap<ExecutorPool, ListeningExecutorService> newValue = Maps.immutableEnumMap(entries);
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        newValue,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getScheduledExecutor() scheduledExecutor} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for scheduledExecutor
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withScheduledExecutor(ScheduledExecutorService value) {
+    if (this.scheduledExecutor == value) return this;
+    ScheduledExecutorService newValue = Objects.requireNonNull(value, "scheduledExecutor");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        newValue,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getBuildEnvironmentDescription() buildEnvironmentDescription} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildEnvironmentDescription
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withBuildEnvironmentDescription(BuildEnvironmentDescription value) {
+    if (this.buildEnvironmentDescription == value) return this;
+    BuildEnvironmentDescription newValue = Objects.requireNonNull(value, "buildEnvironmentDescription");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        newValue,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getActionGraphCache() actionGraphCache} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for actionGraphCache
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withActionGraphCache(ActionGraphCache value) {
+    if (this.actionGraphCache == value) return this;
+    ActionGraphCache newValue = Objects.requireNonNull(value, "actionGraphCache");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        newValue,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getKnownBuildRuleTypesFactory() knownBuildRuleTypesFactory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for knownBuildRuleTypesFactory
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withKnownBuildRuleTypesFactory(KnownBuildRuleTypesFactory value) {
+    if (this.knownBuildRuleTypesFactory == value) return this;
+    KnownBuildRuleTypesFactory newValue = Objects.requireNonNull(value, "knownBuildRuleTypesFactory");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        newValue,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getSdkEnvironment() sdkEnvironment} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sdkEnvironment
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withSdkEnvironment(SdkEnvironment value) {
+    if (this.sdkEnvironment == value) return this;
+    SdkEnvironment newValue = Objects.requireNonNull(value, "sdkEnvironment");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        newValue,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getBuildInfoStoreManager() buildInfoStoreManager} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildInfoStoreManager
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withBuildInfoStoreManager(BuildInfoStoreManager value) {
+    if (this.buildInfoStoreManager == value) return this;
+    BuildInfoStoreManager newValue = Objects.requireNonNull(value, "buildInfoStoreManager");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        newValue,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCommandRunnerParams#getInvocationInfo() invocationInfo} attribute.
+   * @param value The value for invocationInfo
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withInvocationInfo(InvocationInfo value) {
+    @Nullable InvocationInfo newValue = Objects.requireNonNull(value, "invocationInfo");
+    if (this.invocationInfo == newValue) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        newValue,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCommandRunnerParams#getInvocationInfo() invocationInfo} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for invocationInfo
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withInvocationInfo(Optional<? extends InvocationInfo> optional) {
+    @Nullable InvocationInfo value = optional.orElse(null);
+    if (this.invocationInfo == value) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        value,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCommandRunnerParams#getDefaultRuleKeyFactoryCacheRecycler() defaultRuleKeyFactoryCacheRecycler} attribute.
+   * @param value The value for defaultRuleKeyFactoryCacheRecycler
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withDefaultRuleKeyFactoryCacheRecycler(RuleKeyCacheRecycler<RuleKey> value) {
+    @Nullable RuleKeyCacheRecycler<RuleKey> newValue = Objects.requireNonNull(value, "defaultRuleKeyFactoryCacheRecycler");
+    if (this.defaultRuleKeyFactoryCacheRecycler == newValue) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        newValue,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCommandRunnerParams#getDefaultRuleKeyFactoryCacheRecycler() defaultRuleKeyFactoryCacheRecycler} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for defaultRuleKeyFactoryCacheRecycler
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withDefaultRuleKeyFactoryCacheRecycler(Optional<? extends RuleKeyCacheRecycler<RuleKey>> optional) {
+    @Nullable RuleKeyCacheRecycler<RuleKey> value = optional.orElse(null);
+    if (this.defaultRuleKeyFactoryCacheRecycler == value) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        value,
+        this.projectFilesystemFactory,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getProjectFilesystemFactory() projectFilesystemFactory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectFilesystemFactory
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withProjectFilesystemFactory(ProjectFilesystemFactory value) {
+    if (this.projectFilesystemFactory == value) return this;
+    ProjectFilesystemFactory newValue = Objects.requireNonNull(value, "projectFilesystemFactory");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        newValue,
+        this.toolchainProvider);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getToolchainProvider() toolchainProvider} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for toolchainProvider
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withToolchainProvider(ToolchainProvider value) {
+    if (this.toolchainProvider == value) return this;
+    ToolchainProvider newValue = Objects.requireNonNull(value, "toolchainProvider");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.sdkEnvironment,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CommandRunnerParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CommandRunnerParams
+        && equalTo((CommandRunnerParams) another);
+  }
+
+  private boolean equalTo(CommandRunnerParams another) {
+    return console.equals(another.console)
+        && stdIn.equals(another.stdIn)
+        && cell.equals(another.cell)
+        && versionedTargetGraphCache.equals(another.versionedTargetGraphCache)
+        && artifactCacheFactory.equals(another.artifactCacheFactory)
+        && typeCoercerFactory.equals(another.typeCoercerFactory)
+        && parser.equals(another.parser)
+        && buckEventBus.equals(another.buckEventBus)
+        && androidPlatformTargetSupplier.equals(another.androidPlatformTargetSupplier)
+        && platform.equals(another.platform)
+        && environment.equals(another.environment)
+        && javaPackageFinder.equals(another.javaPackageFinder)
+        && clock.equals(another.clock)
+        && versionControlStatsGenerator.equals(another.versionControlStatsGenerator)
+        && Objects.equals(processManager, another.processManager)
+        && Objects.equals(webServer, another.webServer)
+        && Objects.equals(persistentWorkerPools, another.persistentWorkerPools)
+        && buckConfig.equals(another.buckConfig)
+        && fileHashCache.equals(another.fileHashCache)
+        && executors.equals(another.executors)
+        && scheduledExecutor.equals(another.scheduledExecutor)
+        && buildEnvironmentDescription.equals(another.buildEnvironmentDescription)
+        && actionGraphCache.equals(another.actionGraphCache)
+        && knownBuildRuleTypesFactory.equals(another.knownBuildRuleTypesFactory)
+        && sdkEnvironment.equals(another.sdkEnvironment)
+        && buildInfoStoreManager.equals(another.buildInfoStoreManager)
+        && Objects.equals(invocationInfo, another.invocationInfo)
+        && Objects.equals(defaultRuleKeyFactoryCacheRecycler, another.defaultRuleKeyFactoryCacheRecycler)
+        && projectFilesystemFactory.equals(another.projectFilesystemFactory)
+        && toolchainProvider.equals(another.toolchainProvider);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code console}, {@code stdIn}, {@code cell}, {@code versionedTargetGraphCache}, {@code artifactCacheFactory}, {@code typeCoercerFactory}, {@code parser}, {@code buckEventBus}, {@code androidPlatformTargetSupplier}, {@code platform}, {@code environment}, {@code javaPackageFinder}, {@code clock}, {@code versionControlStatsGenerator}, {@code processManager}, {@code webServer}, {@code persistentWorkerPools}, {@code buckConfig}, {@code fileHashCache}, {@code executors}, {@code scheduledExecutor}, {@code buildEnvironmentDescription}, {@code actionGraphCache}, {@code knownBuildRuleTypesFactory}, {@code sdkEnvironment}, {@code buildInfoStoreManager}, {@code invocationInfo}, {@code defaultRuleKeyFactoryCacheRecycler}, {@code projectFilesystemFactory}, {@code toolchainProvider}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + console.hashCode();
+    h += (h << 5) + stdIn.hashCode();
+    h += (h << 5) + cell.hashCode();
+    h += (h << 5) + versionedTargetGraphCache.hashCode();
+    h += (h << 5) + artifactCacheFactory.hashCode();
+    h += (h << 5) + typeCoercerFactory.hashCode();
+    h += (h << 5) + parser.hashCode();
+    h += (h << 5) + buckEventBus.hashCode();
+    h += (h << 5) + androidPlatformTargetSupplier.hashCode();
+    h += (h << 5) + platform.hashCode();
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + javaPackageFinder.hashCode();
+    h += (h << 5) + clock.hashCode();
+    h += (h << 5) + versionControlStatsGenerator.hashCode();
+    h += (h << 5) + Objects.hashCode(processManager);
+    h += (h << 5) + Objects.hashCode(webServer);
+    h += (h << 5) + Objects.hashCode(persistentWorkerPools);
+    h += (h << 5) + buckConfig.hashCode();
+    h += (h << 5) + fileHashCache.hashCode();
+    h += (h << 5) + executors.hashCode();
+    h += (h << 5) + scheduledExecutor.hashCode();
+    h += (h << 5) + buildEnvironmentDescription.hashCode();
+    h += (h << 5) + actionGraphCache.hashCode();
+    h += (h << 5) + knownBuildRuleTypesFactory.hashCode();
+    h += (h << 5) + sdkEnvironment.hashCode();
+    h += (h << 5) + buildInfoStoreManager.hashCode();
+    h += (h << 5) + Objects.hashCode(invocationInfo);
+    h += (h << 5) + Objects.hashCode(defaultRuleKeyFactoryCacheRecycler);
+    h += (h << 5) + projectFilesystemFactory.hashCode();
+    h += (h << 5) + toolchainProvider.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CommandRunnerParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CommandRunnerParams")
+        .omitNullValues()
+        .add("console", console)
+        .add("stdIn", stdIn)
+        .add("cell", cell)
+        .add("versionedTargetGraphCache", versionedTargetGraphCache)
+        .add("artifactCacheFactory", artifactCacheFactory)
+        .add("typeCoercerFactory", typeCoercerFactory)
+        .add("parser", parser)
+        .add("buckEventBus", buckEventBus)
+        .add("androidPlatformTargetSupplier", androidPlatformTargetSupplier)
+        .add("platform", platform)
+        .add("environment", environment)
+        .add("javaPackageFinder", javaPackageFinder)
+        .add("clock", clock)
+        .add("versionControlStatsGenerator", versionControlStatsGenerator)
+        .add("processManager", processManager)
+        .add("webServer", webServer)
+        .add("persistentWorkerPools", persistentWorkerPools)
+        .add("buckConfig", buckConfig)
+        .add("fileHashCache", fileHashCache)
+        .add("executors", executors)
+        .add("scheduledExecutor", scheduledExecutor)
+        .add("buildEnvironmentDescription", buildEnvironmentDescription)
+        .add("actionGraphCache", actionGraphCache)
+        .add("knownBuildRuleTypesFactory", knownBuildRuleTypesFactory)
+        .add("sdkEnvironment", sdkEnvironment)
+        .add("buildInfoStoreManager", buildInfoStoreManager)
+        .add("invocationInfo", invocationInfo)
+        .add("defaultRuleKeyFactoryCacheRecycler", defaultRuleKeyFactoryCacheRecycler)
+        .add("projectFilesystemFactory", projectFilesystemFactory)
+        .add("toolchainProvider", toolchainProvider)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCommandRunnerParams} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CommandRunnerParams instance
+   */
+  public static CommandRunnerParams copyOf(AbstractCommandRunnerParams instance) {
+    if (instance instanceof CommandRunnerParams) {
+      return (CommandRunnerParams) instance;
+    }
+    return CommandRunnerParams.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CommandRunnerParams CommandRunnerParams}.
+   * @return A new CommandRunnerParams builder
+   */
+  public static CommandRunnerParams.Builder builder() {
+    return new CommandRunnerParams.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CommandRunnerParams CommandRunnerParams}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CONSOLE = 0x1L;
+    private static final long INIT_BIT_STD_IN = 0x2L;
+    private static final long INIT_BIT_CELL = 0x4L;
+    private static final long INIT_BIT_VERSIONED_TARGET_GRAPH_CACHE = 0x8L;
+    private static final long INIT_BIT_ARTIFACT_CACHE_FACTORY = 0x10L;
+    private static final long INIT_BIT_TYPE_COERCER_FACTORY = 0x20L;
+    private static final long INIT_BIT_PARSER = 0x40L;
+    private static final long INIT_BIT_BUCK_EVENT_BUS = 0x80L;
+    private static final long INIT_BIT_ANDROID_PLATFORM_TARGET_SUPPLIER = 0x100L;
+    private static final long INIT_BIT_PLATFORM = 0x200L;
+    private static final long INIT_BIT_JAVA_PACKAGE_FINDER = 0x400L;
+    private static final long INIT_BIT_CLOCK = 0x800L;
+    private static final long INIT_BIT_VERSION_CONTROL_STATS_GENERATOR = 0x1000L;
+    private static final long INIT_BIT_BUCK_CONFIG = 0x2000L;
+    private static final long INIT_BIT_FILE_HASH_CACHE = 0x4000L;
+    private static final long INIT_BIT_SCHEDULED_EXECUTOR = 0x8000L;
+    private static final long INIT_BIT_BUILD_ENVIRONMENT_DESCRIPTION = 0x10000L;
+    private static final long INIT_BIT_ACTION_GRAPH_CACHE = 0x20000L;
+    private static final long INIT_BIT_KNOWN_BUILD_RULE_TYPES_FACTORY = 0x40000L;
+    private static final long INIT_BIT_SDK_ENVIRONMENT = 0x80000L;
+    private static final long INIT_BIT_BUILD_INFO_STORE_MANAGER = 0x100000L;
+    private static final long INIT_BIT_PROJECT_FILESYSTEM_FACTORY = 0x200000L;
+    private static final long INIT_BIT_TOOLCHAIN_PROVIDER = 0x400000L;
+    private long initBits = 0x7fffffL;
+
+    private @Nullable Console console;
+    private @Nullable InputStream stdIn;
+    private @Nullable Cell cell;
+    private @Nullable VersionedTargetGraphCache versionedTargetGraphCache;
+    private @Nullable ArtifactCacheFactory artifactCacheFactory;
+    private @Nullable TypeCoercerFactory typeCoercerFactory;
+    private @Nullable Parser parser;
+    private @Nullable BuckEventBus buckEventBus;
+    private @Nullable Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier;
+    private @Nullable Platform platform;
+    private ImmutableMap.Builder<String, String> environment = ImmutableMap.builder();
+    private @Nullable JavaPackageFinder javaPackageFinder;
+    private @Nullable Clock clock;
+    private @Nullable VersionControlStatsGenerator versionControlStatsGenerator;
+    private @Nullable ProcessManager processManager;
+    private @Nullable WebServer webServer;
+    private @Nullable ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools;
+    private @Nullable BuckConfig buckConfig;
+    private @Nullable StackedFileHashCache fileHashCache;
+    private ImmutableMap.Builder<ExecutorPool, ListeningExecutorService> executors = ImmutableMap.builder();
+    private @Nullable ScheduledExecutorService scheduledExecutor;
+    private @Nullable BuildEnvironmentDescription buildEnvironmentDescription;
+    private @Nullable ActionGraphCache actionGraphCache;
+    private @Nullable KnownBuildRuleTypesFactory knownBuildRuleTypesFactory;
+    private @Nullable SdkEnvironment sdkEnvironment;
+    private @Nullable BuildInfoStoreManager buildInfoStoreManager;
+    private @Nullable InvocationInfo invocationInfo;
+    private @Nullable RuleKeyCacheRecycler<RuleKey> defaultRuleKeyFactoryCacheRecycler;
+    private @Nullable ProjectFilesystemFactory projectFilesystemFactory;
+    private @Nullable ToolchainProvider toolchainProvider;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractCommandRunnerParams} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AbstractCommandRunnerParams instance) {
+      Objects.requireNonNull(instance, "instance");
+      setConsole(instance.getConsole());
+      setStdIn(instance.getStdIn());
+      setCell(instance.getCell());
+      setVersionedTargetGraphCache(instance.getVersionedTargetGraphCache());
+      setArtifactCacheFactory(instance.getArtifactCacheFactory());
+      setTypeCoercerFactory(instance.getTypeCoercerFactory());
+      setParser(instance.getParser());
+      setBuckEventBus(instance.getBuckEventBus());
+      setAndroidPlatformTargetSupplier(instance.getAndroidPlatformTargetSupplier());
+      setPlatform(instance.getPlatform());
+      putAllEnvironment(instance.getEnvironment());
+      setJavaPackageFinder(instance.getJavaPackageFinder());
+      setClock(instance.getClock());
+      setVersionControlStatsGenerator(instance.getVersionControlStatsGenerator());
+      Optional<ProcessManager> processManagerOptional = instance.getProcessManager();
+      if (processManagerOptional.isPresent()) {
+        setProcessManager(processManagerOptional);
+      }
+      Optional<WebServer> webServerOptional = instance.getWebServer();
+      if (webServerOptional.isPresent()) {
+        setWebServer(webServerOptional);
+      }
+      Optional<ConcurrentMap<String, WorkerProcessPool>> persistentWorkerPoolsOptional = instance.getPersistentWorkerPools();
+      if (persistentWorkerPoolsOptional.isPresent()) {
+        setPersistentWorkerPools(persistentWorkerPoolsOptional);
+      }
+      setBuckConfig(instance.getBuckConfig());
+      setFileHashCache(instance.getFileHashCache());
+      putAllExecutors(instance.getExecutors());
+      setScheduledExecutor(instance.getScheduledExecutor());
+      setBuildEnvironmentDescription(instance.getBuildEnvironmentDescription());
+      setActionGraphCache(instance.getActionGraphCache());
+      setKnownBuildRuleTypesFactory(instance.getKnownBuildRuleTypesFactory());
+      setSdkEnvironment(instance.getSdkEnvironment());
+      setBuildInfoStoreManager(instance.getBuildInfoStoreManager());
+      Optional<InvocationInfo> invocationInfoOptional = instance.getInvocationInfo();
+      if (invocationInfoOptional.isPresent()) {
+        setInvocationInfo(invocationInfoOptional);
+      }
+      Optional<RuleKeyCacheRecycler<RuleKey>> defaultRuleKeyFactoryCacheRecyclerOptional = instance.getDefaultRuleKeyFactoryCacheRecycler();
+      if (defaultRuleKeyFactoryCacheRecyclerOptional.isPresent()) {
+        setDefaultRuleKeyFactoryCacheRecycler(defaultRuleKeyFactoryCacheRecyclerOptional);
+      }
+      setProjectFilesystemFactory(instance.getProjectFilesystemFactory());
+      setToolchainProvider(instance.getToolchainProvider());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getConsole() console} attribute.
+     * @param console The value for console 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setConsole(Console console) {
+      this.console = Objects.requireNonNull(console, "console");
+      initBits &= ~INIT_BIT_CONSOLE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getStdIn() stdIn} attribute.
+     * @param stdIn The value for stdIn 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStdIn(InputStream stdIn) {
+      this.stdIn = Objects.requireNonNull(stdIn, "stdIn");
+      initBits &= ~INIT_BIT_STD_IN;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getCell() cell} attribute.
+     * @param cell The value for cell 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCell(Cell cell) {
+      this.cell = Objects.requireNonNull(cell, "cell");
+      initBits &= ~INIT_BIT_CELL;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getVersionedTargetGraphCache() versionedTargetGraphCache} attribute.
+     * @param versionedTargetGraphCache The value for versionedTargetGraphCache 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionedTargetGraphCache(VersionedTargetGraphCache versionedTargetGraphCache) {
+      this.versionedTargetGraphCache = Objects.requireNonNull(versionedTargetGraphCache, "versionedTargetGraphCache");
+      initBits &= ~INIT_BIT_VERSIONED_TARGET_GRAPH_CACHE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getArtifactCacheFactory() artifactCacheFactory} attribute.
+     * @param artifactCacheFactory The value for artifactCacheFactory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setArtifactCacheFactory(ArtifactCacheFactory artifactCacheFactory) {
+      this.artifactCacheFactory = Objects.requireNonNull(artifactCacheFactory, "artifactCacheFactory");
+      initBits &= ~INIT_BIT_ARTIFACT_CACHE_FACTORY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getTypeCoercerFactory() typeCoercerFactory} attribute.
+     * @param typeCoercerFactory The value for typeCoercerFactory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTypeCoercerFactory(TypeCoercerFactory typeCoercerFactory) {
+      this.typeCoercerFactory = Objects.requireNonNull(typeCoercerFactory, "typeCoercerFactory");
+      initBits &= ~INIT_BIT_TYPE_COERCER_FACTORY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getParser() parser} attribute.
+     * @param parser The value for parser 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setParser(Parser parser) {
+      this.parser = Objects.requireNonNull(parser, "parser");
+      initBits &= ~INIT_BIT_PARSER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getBuckEventBus() buckEventBus} attribute.
+     * @param buckEventBus The value for buckEventBus 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuckEventBus(BuckEventBus buckEventBus) {
+      this.buckEventBus = Objects.requireNonNull(buckEventBus, "buckEventBus");
+      initBits &= ~INIT_BIT_BUCK_EVENT_BUS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getAndroidPlatformTargetSupplier() androidPlatformTargetSupplier} attribute.
+     * @param androidPlatformTargetSupplier The value for androidPlatformTargetSupplier 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAndroidPlatformTargetSupplier(Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier) {
+      this.androidPlatformTargetSupplier = Objects.requireNonNull(androidPlatformTargetSupplier, "androidPlatformTargetSupplier");
+      initBits &= ~INIT_BIT_ANDROID_PLATFORM_TARGET_SUPPLIER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getPlatform() platform} attribute.
+     * @param platform The value for platform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatform(Platform platform) {
+      this.platform = Objects.requireNonNull(platform, "platform");
+      initBits &= ~INIT_BIT_PLATFORM;
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link AbstractCommandRunnerParams#getEnvironment() environment} map.
+     * @param key The key in the environment map
+     * @param value The associated value in the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnvironment(String key, String value) {
+      this.environment.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCommandRunnerParams#getEnvironment() environment} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnvironment(Map.Entry<String, ? extends String> entry) {
+      this.environment.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCommandRunnerParams#getEnvironment() environment} map. Nulls are not permitted
+     * @param environment The entries that will be added to the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnvironment(Map<String, ? extends String> environment) {
+      this.environment = ImmutableMap.builder();
+      return putAllEnvironment(environment);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCommandRunnerParams#getEnvironment() environment} map. Nulls are not permitted
+     * @param environment The entries that will be added to the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllEnvironment(Map<String, ? extends String> environment) {
+      this.environment.putAll(environment);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getJavaPackageFinder() javaPackageFinder} attribute.
+     * @param javaPackageFinder The value for javaPackageFinder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavaPackageFinder(JavaPackageFinder javaPackageFinder) {
+      this.javaPackageFinder = Objects.requireNonNull(javaPackageFinder, "javaPackageFinder");
+      initBits &= ~INIT_BIT_JAVA_PACKAGE_FINDER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getClock() clock} attribute.
+     * @param clock The value for clock 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setClock(Clock clock) {
+      this.clock = Objects.requireNonNull(clock, "clock");
+      initBits &= ~INIT_BIT_CLOCK;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getVersionControlStatsGenerator() versionControlStatsGenerator} attribute.
+     * @param versionControlStatsGenerator The value for versionControlStatsGenerator 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionControlStatsGenerator(VersionControlStatsGenerator versionControlStatsGenerator) {
+      this.versionControlStatsGenerator = Objects.requireNonNull(versionControlStatsGenerator, "versionControlStatsGenerator");
+      initBits &= ~INIT_BIT_VERSION_CONTROL_STATS_GENERATOR;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getProcessManager() processManager} to processManager.
+     * @param processManager The value for processManager
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProcessManager(ProcessManager processManager) {
+      this.processManager = Objects.requireNonNull(processManager, "processManager");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getProcessManager() processManager} to processManager.
+     * @param processManager The value for processManager
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProcessManager(Optional<? extends ProcessManager> processManager) {
+      this.processManager = processManager.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getWebServer() webServer} to webServer.
+     * @param webServer The value for webServer
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setWebServer(WebServer webServer) {
+      this.webServer = Objects.requireNonNull(webServer, "webServer");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getWebServer() webServer} to webServer.
+     * @param webServer The value for webServer
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWebServer(Optional<? extends WebServer> webServer) {
+      this.webServer = webServer.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getPersistentWorkerPools() persistentWorkerPools} to persistentWorkerPools.
+     * @param persistentWorkerPools The value for persistentWorkerPools
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPersistentWorkerPools(ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools) {
+      this.persistentWorkerPools = Objects.requireNonNull(persistentWorkerPools, "persistentWorkerPools");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getPersistentWorkerPools() persistentWorkerPools} to persistentWorkerPools.
+     * @param persistentWorkerPools The value for persistentWorkerPools
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPersistentWorkerPools(Optional<? extends ConcurrentMap<String, WorkerProcessPool>> persistentWorkerPools) {
+      this.persistentWorkerPools = persistentWorkerPools.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getBuckConfig() buckConfig} attribute.
+     * @param buckConfig The value for buckConfig 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuckConfig(BuckConfig buckConfig) {
+      this.buckConfig = Objects.requireNonNull(buckConfig, "buckConfig");
+      initBits &= ~INIT_BIT_BUCK_CONFIG;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getFileHashCache() fileHashCache} attribute.
+     * @param fileHashCache The value for fileHashCache 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFileHashCache(StackedFileHashCache fileHashCache) {
+      this.fileHashCache = Objects.requireNonNull(fileHashCache, "fileHashCache");
+      initBits &= ~INIT_BIT_FILE_HASH_CACHE;
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link AbstractCommandRunnerParams#getExecutors() executors} map.
+     * @param key The key in the executors map
+     * @param value The associated value in the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putExecutors(ExecutorPool key, ListeningExecutorService value) {
+      this.executors.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCommandRunnerParams#getExecutors() executors} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putExecutors(Map.Entry<ExecutorPool, ? extends ListeningExecutorService> entry) {
+      this.executors.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCommandRunnerParams#getExecutors() executors} map. Nulls are not permitted
+     * @param executors The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> executors) {
+      this.executors = ImmutableMap.builder();
+      return putAllExecutors(executors);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCommandRunnerParams#getExecutors() executors} map. Nulls are not permitted
+     * @param executors The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> executors) {
+      this.executors.putAll(executors);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getScheduledExecutor() scheduledExecutor} attribute.
+     * @param scheduledExecutor The value for scheduledExecutor 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setScheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+      this.scheduledExecutor = Objects.requireNonNull(scheduledExecutor, "scheduledExecutor");
+      initBits &= ~INIT_BIT_SCHEDULED_EXECUTOR;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getBuildEnvironmentDescription() buildEnvironmentDescription} attribute.
+     * @param buildEnvironmentDescription The value for buildEnvironmentDescription 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildEnvironmentDescription(BuildEnvironmentDescription buildEnvironmentDescription) {
+      this.buildEnvironmentDescription = Objects.requireNonNull(buildEnvironmentDescription, "buildEnvironmentDescription");
+      initBits &= ~INIT_BIT_BUILD_ENVIRONMENT_DESCRIPTION;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getActionGraphCache() actionGraphCache} attribute.
+     * @param actionGraphCache The value for actionGraphCache 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setActionGraphCache(ActionGraphCache actionGraphCache) {
+      this.actionGraphCache = Objects.requireNonNull(actionGraphCache, "actionGraphCache");
+      initBits &= ~INIT_BIT_ACTION_GRAPH_CACHE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getKnownBuildRuleTypesFactory() knownBuildRuleTypesFactory} attribute.
+     * @param knownBuildRuleTypesFactory The value for knownBuildRuleTypesFactory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setKnownBuildRuleTypesFactory(KnownBuildRuleTypesFactory knownBuildRuleTypesFactory) {
+      this.knownBuildRuleTypesFactory = Objects.requireNonNull(knownBuildRuleTypesFactory, "knownBuildRuleTypesFactory");
+      initBits &= ~INIT_BIT_KNOWN_BUILD_RULE_TYPES_FACTORY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getSdkEnvironment() sdkEnvironment} attribute.
+     * @param sdkEnvironment The value for sdkEnvironment 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSdkEnvironment(SdkEnvironment sdkEnvironment) {
+      this.sdkEnvironment = Objects.requireNonNull(sdkEnvironment, "sdkEnvironment");
+      initBits &= ~INIT_BIT_SDK_ENVIRONMENT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getBuildInfoStoreManager() buildInfoStoreManager} attribute.
+     * @param buildInfoStoreManager The value for buildInfoStoreManager 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildInfoStoreManager(BuildInfoStoreManager buildInfoStoreManager) {
+      this.buildInfoStoreManager = Objects.requireNonNull(buildInfoStoreManager, "buildInfoStoreManager");
+      initBits &= ~INIT_BIT_BUILD_INFO_STORE_MANAGER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getInvocationInfo() invocationInfo} to invocationInfo.
+     * @param invocationInfo The value for invocationInfo
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setInvocationInfo(InvocationInfo invocationInfo) {
+      this.invocationInfo = Objects.requireNonNull(invocationInfo, "invocationInfo");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getInvocationInfo() invocationInfo} to invocationInfo.
+     * @param invocationInfo The value for invocationInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInvocationInfo(Optional<? extends InvocationInfo> invocationInfo) {
+      this.invocationInfo = invocationInfo.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getDefaultRuleKeyFactoryCacheRecycler() defaultRuleKeyFactoryCacheRecycler} to defaultRuleKeyFactoryCacheRecycler.
+     * @param defaultRuleKeyFactoryCacheRecycler The value for defaultRuleKeyFactoryCacheRecycler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDefaultRuleKeyFactoryCacheRecycler(RuleKeyCacheRecycler<RuleKey> defaultRuleKeyFactoryCacheRecycler) {
+      this.defaultRuleKeyFactoryCacheRecycler = Objects.requireNonNull(defaultRuleKeyFactoryCacheRecycler, "defaultRuleKeyFactoryCacheRecycler");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getDefaultRuleKeyFactoryCacheRecycler() defaultRuleKeyFactoryCacheRecycler} to defaultRuleKeyFactoryCacheRecycler.
+     * @param defaultRuleKeyFactoryCacheRecycler The value for defaultRuleKeyFactoryCacheRecycler
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDefaultRuleKeyFactoryCacheRecycler(Optional<? extends RuleKeyCacheRecycler<RuleKey>> defaultRuleKeyFactoryCacheRecycler) {
+      this.defaultRuleKeyFactoryCacheRecycler = defaultRuleKeyFactoryCacheRecycler.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getProjectFilesystemFactory() projectFilesystemFactory} attribute.
+     * @param projectFilesystemFactory The value for projectFilesystemFactory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectFilesystemFactory(ProjectFilesystemFactory projectFilesystemFactory) {
+      this.projectFilesystemFactory = Objects.requireNonNull(projectFilesystemFactory, "projectFilesystemFactory");
+      initBits &= ~INIT_BIT_PROJECT_FILESYSTEM_FACTORY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getToolchainProvider() toolchainProvider} attribute.
+     * @param toolchainProvider The value for toolchainProvider 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setToolchainProvider(ToolchainProvider toolchainProvider) {
+      this.toolchainProvider = Objects.requireNonNull(toolchainProvider, "toolchainProvider");
+      initBits &= ~INIT_BIT_TOOLCHAIN_PROVIDER;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link CommandRunnerParams CommandRunnerParams}.
+     * @return An immutable instance of CommandRunnerParams
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CommandRunnerParams build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CommandRunnerParams(
+          console,
+          stdIn,
+          cell,
+          versionedTargetGraphCache,
+          artifactCacheFactory,
+          typeCoercerFactory,
+          parser,
+          buckEventBus,
+          androidPlatformTargetSupplier,
+          platform,
+          environment.build(),
+          javaPackageFinder,
+          clock,
+          versionControlStatsGenerator,
+          processManager,
+          webServer,
+          persistentWorkerPools,
+          buckConfig,
+          fileHashCache,
+          Maps.immutableEnumMap(executors.build()),
+          scheduledExecutor,
+          buildEnvironmentDescription,
+          actionGraphCache,
+          knownBuildRuleTypesFactory,
+          sdkEnvironment,
+          buildInfoStoreManager,
+          invocationInfo,
+          defaultRuleKeyFactoryCacheRecycler,
+          projectFilesystemFactory,
+          toolchainProvider);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CONSOLE) != 0) attributes.add("console");
+      if ((initBits & INIT_BIT_STD_IN) != 0) attributes.add("stdIn");
+      if ((initBits & INIT_BIT_CELL) != 0) attributes.add("cell");
+      if ((initBits & INIT_BIT_VERSIONED_TARGET_GRAPH_CACHE) != 0) attributes.add("versionedTargetGraphCache");
+      if ((initBits & INIT_BIT_ARTIFACT_CACHE_FACTORY) != 0) attributes.add("artifactCacheFactory");
+      if ((initBits & INIT_BIT_TYPE_COERCER_FACTORY) != 0) attributes.add("typeCoercerFactory");
+      if ((initBits & INIT_BIT_PARSER) != 0) attributes.add("parser");
+      if ((initBits & INIT_BIT_BUCK_EVENT_BUS) != 0) attributes.add("buckEventBus");
+      if ((initBits & INIT_BIT_ANDROID_PLATFORM_TARGET_SUPPLIER) != 0) attributes.add("androidPlatformTargetSupplier");
+      if ((initBits & INIT_BIT_PLATFORM) != 0) attributes.add("platform");
+      if ((initBits & INIT_BIT_JAVA_PACKAGE_FINDER) != 0) attributes.add("javaPackageFinder");
+      if ((initBits & INIT_BIT_CLOCK) != 0) attributes.add("clock");
+      if ((initBits & INIT_BIT_VERSION_CONTROL_STATS_GENERATOR) != 0) attributes.add("versionControlStatsGenerator");
+      if ((initBits & INIT_BIT_BUCK_CONFIG) != 0) attributes.add("buckConfig");
+      if ((initBits & INIT_BIT_FILE_HASH_CACHE) != 0) attributes.add("fileHashCache");
+      if ((initBits & INIT_BIT_SCHEDULED_EXECUTOR) != 0) attributes.add("scheduledExecutor");
+      if ((initBits & INIT_BIT_BUILD_ENVIRONMENT_DESCRIPTION) != 0) attributes.add("buildEnvironmentDescription");
+      if ((initBits & INIT_BIT_ACTION_GRAPH_CACHE) != 0) attributes.add("actionGraphCache");
+      if ((initBits & INIT_BIT_KNOWN_BUILD_RULE_TYPES_FACTORY) != 0) attributes.add("knownBuildRuleTypesFactory");
+      if ((initBits & INIT_BIT_SDK_ENVIRONMENT) != 0) attributes.add("sdkEnvironment");
+      if ((initBits & INIT_BIT_BUILD_INFO_STORE_MANAGER) != 0) attributes.add("buildInfoStoreManager");
+      if ((initBits & INIT_BIT_PROJECT_FILESYSTEM_FACTORY) != 0) attributes.add("projectFilesystemFactory");
+      if ((initBits & INIT_BIT_TOOLCHAIN_PROVIDER) != 0) attributes.add("toolchainProvider");
+      return "Cannot build CommandRunnerParams, some of required attributes are not set " + attributes;
+    }
+  }
+}
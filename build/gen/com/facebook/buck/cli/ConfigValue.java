@@ -0,0 +1,355 @@
+package com.facebook.buck.cli;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AuditConfigCommand.AbstractConfigValue}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ConfigValue.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code ConfigValue.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AuditConfigCommand.AbstractConfigValue"})
+@Immutable
+public final class ConfigValue extends AuditConfigCommand.AbstractConfigValue {
+  private final String key;
+  private final String section;
+  private final String property;
+  private final @Nullable String value;
+
+  private ConfigValue(
+      String key,
+      String section,
+      String property,
+      Optional<String> value) {
+    this.key = Objects.requireNonNull(key, "key");
+    this.section = Objects.requireNonNull(section, "section");
+    this.property = Objects.requireNonNull(property, "property");
+    this.value = value.orElse(null);
+  }
+
+  private ConfigValue(
+      ConfigValue original,
+      String key,
+      String section,
+      String property,
+      @Nullable String value) {
+    this.key = key;
+    this.section = section;
+    this.property = property;
+    this.value = value;
+  }
+
+  /**
+   * @return The value of the {@code key} attribute
+   */
+  @Override
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * @return The value of the {@code section} attribute
+   */
+  @Override
+  public String getSection() {
+    return section;
+  }
+
+  /**
+   * @return The value of the {@code property} attribute
+   */
+  @Override
+  public String getProperty() {
+    return property;
+  }
+
+  /**
+   * @return The value of the {@code value} attribute
+   */
+  @Override
+  public Optional<String> getValue() {
+    return Optional.ofNullable(value);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AuditConfigCommand.AbstractConfigValue#getKey() key} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for key
+   * @return A modified copy of the {@code this} object
+   */
+  public final ConfigValue withKey(String value) {
+    if (this.key.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "key");
+    return new ConfigValue(this, newValue, this.section, this.property, this.value);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AuditConfigCommand.AbstractConfigValue#getSection() section} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for section
+   * @return A modified copy of the {@code this} object
+   */
+  public final ConfigValue withSection(String value) {
+    if (this.section.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "section");
+    return new ConfigValue(this, this.key, newValue, this.property, this.value);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AuditConfigCommand.AbstractConfigValue#getProperty() property} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for property
+   * @return A modified copy of the {@code this} object
+   */
+  public final ConfigValue withProperty(String value) {
+    if (this.property.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "property");
+    return new ConfigValue(this, this.key, this.section, newValue, this.value);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AuditConfigCommand.AbstractConfigValue#getValue() value} attribute.
+   * @param value The value for value
+   * @return A modified copy of {@code this} object
+   */
+  public final ConfigValue withValue(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "value");
+    if (Objects.equals(this.value, newValue)) return this;
+    return new ConfigValue(this, this.key, this.section, this.property, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AuditConfigCommand.AbstractConfigValue#getValue() value} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for value
+   * @return A modified copy of {@code this} object
+   */
+  public final ConfigValue withValue(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.value, value)) return this;
+    return new ConfigValue(this, this.key, this.section, this.property, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ConfigValue} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ConfigValue
+        && equalTo((ConfigValue) another);
+  }
+
+  private boolean equalTo(ConfigValue another) {
+    return key.equals(another.key)
+        && section.equals(another.section)
+        && property.equals(another.property)
+        && Objects.equals(value, another.value);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code key}, {@code section}, {@code property}, {@code value}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + key.hashCode();
+    h += (h << 5) + section.hashCode();
+    h += (h << 5) + property.hashCode();
+    h += (h << 5) + Objects.hashCode(value);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ConfigValue} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ConfigValue")
+        .omitNullValues()
+        .add("key", key)
+        .add("section", section)
+        .add("property", property)
+        .add("value", value)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ConfigValue} instance.
+   * @param key The value for the {@code key} attribute
+   * @param section The value for the {@code section} attribute
+   * @param property The value for the {@code property} attribute
+   * @param value The value for the {@code value} attribute
+   * @return An immutable ConfigValue instance
+   */
+  public static ConfigValue of(String key, String section, String property, Optional<String> value) {
+    return new ConfigValue(key, section, property, value);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AuditConfigCommand.AbstractConfigValue} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ConfigValue instance
+   */
+  static ConfigValue copyOf(AuditConfigCommand.AbstractConfigValue instance) {
+    if (instance instanceof ConfigValue) {
+      return (ConfigValue) instance;
+    }
+    return ConfigValue.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ConfigValue ConfigValue}.
+   * @return A new ConfigValue builder
+   */
+  public static ConfigValue.Builder builder() {
+    return new ConfigValue.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ConfigValue ConfigValue}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_KEY = 0x1L;
+    private static final long INIT_BIT_SECTION = 0x2L;
+    private static final long INIT_BIT_PROPERTY = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable String key;
+    private @Nullable String section;
+    private @Nullable String property;
+    private @Nullable String value;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ConfigValue} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ConfigValue instance) {
+      return from((AuditConfigCommand.AbstractConfigValue) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractConfigValue} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AuditConfigCommand.AbstractConfigValue instance) {
+      Objects.requireNonNull(instance, "instance");
+      setKey(instance.getKey());
+      setSection(instance.getSection());
+      setProperty(instance.getProperty());
+      Optional<String> valueOptional = instance.getValue();
+      if (valueOptional.isPresent()) {
+        setValue(valueOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AuditConfigCommand.AbstractConfigValue#getKey() key} attribute.
+     * @param key The value for key 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setKey(String key) {
+      this.key = Objects.requireNonNull(key, "key");
+      initBits &= ~INIT_BIT_KEY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AuditConfigCommand.AbstractConfigValue#getSection() section} attribute.
+     * @param section The value for section 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSection(String section) {
+      this.section = Objects.requireNonNull(section, "section");
+      initBits &= ~INIT_BIT_SECTION;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AuditConfigCommand.AbstractConfigValue#getProperty() property} attribute.
+     * @param property The value for property 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProperty(String property) {
+      this.property = Objects.requireNonNull(property, "property");
+      initBits &= ~INIT_BIT_PROPERTY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AuditConfigCommand.AbstractConfigValue#getValue() value} to value.
+     * @param value The value for value
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setValue(String value) {
+      this.value = Objects.requireNonNull(value, "value");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AuditConfigCommand.AbstractConfigValue#getValue() value} to value.
+     * @param value The value for value
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setValue(Optional<String> value) {
+      this.value = value.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ConfigValue ConfigValue}.
+     * @return An immutable instance of ConfigValue
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ConfigValue build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ConfigValue(null, key, section, property, value);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_KEY) != 0) attributes.add("key");
+      if ((initBits & INIT_BIT_SECTION) != 0) attributes.add("section");
+      if ((initBits & INIT_BIT_PROPERTY) != 0) attributes.add("property");
+      return "Cannot build ConfigValue, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.facebook.buck.config.resources;
+
+import com.facebook.buck.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractResourcesConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ResourcesConfig.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractResourcesConfig"})
+@Immutable
+public final class ResourcesConfig extends AbstractResourcesConfig {
+  private final BuckConfig delegate;
+
+  private ResourcesConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ResourcesConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ResourcesConfig
+        && equalTo((ResourcesConfig) another);
+  }
+
+  private boolean equalTo(ResourcesConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ResourcesConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ResourcesConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ResourcesConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable ResourcesConfig instance
+   */
+  public static ResourcesConfig of(BuckConfig delegate) {
+    return new ResourcesConfig(delegate);
+  }
+}
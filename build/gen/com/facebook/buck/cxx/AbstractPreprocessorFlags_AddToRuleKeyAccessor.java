@@ -0,0 +1,35 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.cxx;
+
+public final class AbstractPreprocessorFlags_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("getPrefixHeader()", "getOtherFlags()", "getIncludes()", "getFrameworkPaths()"));
+
+  @java.lang.Override
+  public java.lang.Class<?> getTargetClass() {
+    return com.facebook.buck.cxx.AbstractPreprocessorFlags.class;
+  }
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        return ((com.facebook.buck.cxx.AbstractPreprocessorFlags) instance).getPrefixHeader();
+      case 1:
+        return ((com.facebook.buck.cxx.AbstractPreprocessorFlags) instance).getOtherFlags();
+      case 2:
+        return ((com.facebook.buck.cxx.AbstractPreprocessorFlags) instance).getIncludes();
+      case 3:
+        return ((com.facebook.buck.cxx.AbstractPreprocessorFlags) instance).getFrameworkPaths();
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+}
@@ -0,0 +1,277 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Encapsulates a Swift bridging header 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxBridgingHeaders"})
+@Immutable
+public final class CxxBridgingHeaders extends AbstractCxxBridgingHeaders {
+  private final CxxPreprocessables.IncludeType includeType;
+  private final SourcePath bridgingHeader;
+  private final int hashCode;
+
+  private CxxBridgingHeaders(
+      CxxPreprocessables.IncludeType includeType,
+      SourcePath bridgingHeader) {
+    this.includeType = Objects.requireNonNull(includeType, "includeType");
+    this.bridgingHeader = Objects.requireNonNull(bridgingHeader, "bridgingHeader");
+    this.hashCode = computeHashCode();
+  }
+
+  private CxxBridgingHeaders(
+      CxxBridgingHeaders original,
+      CxxPreprocessables.IncludeType includeType,
+      SourcePath bridgingHeader) {
+    this.includeType = includeType;
+    this.bridgingHeader = bridgingHeader;
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code includeType} attribute
+   */
+  @Override
+  public CxxPreprocessables.IncludeType getIncludeType() {
+    return includeType;
+  }
+
+  /**
+   * @return The value of the {@code bridgingHeader} attribute
+   */
+  @Override
+  public SourcePath getBridgingHeader() {
+    return bridgingHeader;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxBridgingHeaders#getIncludeType() includeType} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for includeType
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxBridgingHeaders withIncludeType(CxxPreprocessables.IncludeType value) {
+    if (this.includeType == value) return this;
+    CxxPreprocessables.IncludeType newValue = Objects.requireNonNull(value, "includeType");
+    return new CxxBridgingHeaders(this, newValue, this.bridgingHeader);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxBridgingHeaders#getBridgingHeader() bridgingHeader} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for bridgingHeader
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxBridgingHeaders withBridgingHeader(SourcePath value) {
+    if (this.bridgingHeader == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "bridgingHeader");
+    return new CxxBridgingHeaders(this, this.includeType, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxBridgingHeaders} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxBridgingHeaders
+        && equalTo((CxxBridgingHeaders) another);
+  }
+
+  private boolean equalTo(CxxBridgingHeaders another) {
+    if (hashCode != another.hashCode) return false;
+    return includeType.equals(another.includeType)
+        && bridgingHeader.equals(another.bridgingHeader);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code includeType}, {@code bridgingHeader}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int h = 5381;
+    h += (h << 5) + includeType.hashCode();
+    h += (h << 5) + bridgingHeader.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxBridgingHeaders} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxBridgingHeaders")
+        .omitNullValues()
+        .add("includeType", includeType)
+        .add("bridgingHeader", bridgingHeader)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxBridgingHeaders} instance.
+   * @param includeType The value for the {@code includeType} attribute
+   * @param bridgingHeader The value for the {@code bridgingHeader} attribute
+   * @return An immutable CxxBridgingHeaders instance
+   */
+  public static CxxBridgingHeaders of(CxxPreprocessables.IncludeType includeType, SourcePath bridgingHeader) {
+    return new CxxBridgingHeaders(includeType, bridgingHeader);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxBridgingHeaders} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxBridgingHeaders instance
+   */
+  static CxxBridgingHeaders copyOf(AbstractCxxBridgingHeaders instance) {
+    if (instance instanceof CxxBridgingHeaders) {
+      return (CxxBridgingHeaders) instance;
+    }
+    return CxxBridgingHeaders.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CxxBridgingHeaders CxxBridgingHeaders}.
+   * @return A new CxxBridgingHeaders builder
+   */
+  public static CxxBridgingHeaders.Builder builder() {
+    return new CxxBridgingHeaders.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxBridgingHeaders CxxBridgingHeaders}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_INCLUDE_TYPE = 0x1L;
+    private static final long INIT_BIT_BRIDGING_HEADER = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable CxxPreprocessables.IncludeType includeType;
+    private @Nullable SourcePath bridgingHeader;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxBridgingHeaders} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxBridgingHeaders instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxBridgingHeaders} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractCxxBridgingHeaders instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.CxxHeaders} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxHeaders instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof AbstractCxxBridgingHeaders) {
+        AbstractCxxBridgingHeaders instance = (AbstractCxxBridgingHeaders) object;
+        if ((bits & 0x1L) == 0) {
+          setIncludeType(instance.getIncludeType());
+          bits |= 0x1L;
+        }
+        setBridgingHeader(instance.getBridgingHeader());
+      }
+      if (object instanceof CxxHeaders) {
+        CxxHeaders instance = (CxxHeaders) object;
+        if ((bits & 0x1L) == 0) {
+          setIncludeType(instance.getIncludeType());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxBridgingHeaders#getIncludeType() includeType} attribute.
+     * @param includeType The value for includeType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludeType(CxxPreprocessables.IncludeType includeType) {
+      this.includeType = Objects.requireNonNull(includeType, "includeType");
+      initBits &= ~INIT_BIT_INCLUDE_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCxxBridgingHeaders#getBridgingHeader() bridgingHeader} attribute.
+     * @param bridgingHeader The value for bridgingHeader 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBridgingHeader(SourcePath bridgingHeader) {
+      this.bridgingHeader = Objects.requireNonNull(bridgingHeader, "bridgingHeader");
+      initBits &= ~INIT_BIT_BRIDGING_HEADER;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link CxxBridgingHeaders CxxBridgingHeaders}.
+     * @return An immutable instance of CxxBridgingHeaders
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxBridgingHeaders build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CxxBridgingHeaders(null, includeType, bridgingHeader);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_INCLUDE_TYPE) != 0) attributes.add("includeType");
+      if ((initBits & INIT_BIT_BRIDGING_HEADER) != 0) attributes.add("bridgingHeader");
+      return "Cannot build CxxBridgingHeaders, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,227 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCxxCompilationDatabaseDependencies}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CxxCompilationDatabaseDependencies.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code CxxCompilationDatabaseDependencies.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxCompilationDatabaseDependencies"})
+@Immutable
+final class CxxCompilationDatabaseDependencies
+    extends AbstractCxxCompilationDatabaseDependencies {
+  private final ImmutableSet<SourcePath> sourcePaths;
+
+  private CxxCompilationDatabaseDependencies(Iterable<? extends SourcePath> sourcePaths) {
+    this.sourcePaths = ImmutableSet.copyOf(sourcePaths);
+  }
+
+  private CxxCompilationDatabaseDependencies(
+      CxxCompilationDatabaseDependencies original,
+      ImmutableSet<SourcePath> sourcePaths) {
+    this.sourcePaths = sourcePaths;
+  }
+
+  /**
+   * @return The value of the {@code sourcePaths} attribute
+   */
+  @Override
+  ImmutableSet<SourcePath> getSourcePaths() {
+    return sourcePaths;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxCompilationDatabaseDependencies#getSourcePaths() sourcePaths}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxCompilationDatabaseDependencies withSourcePaths(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new CxxCompilationDatabaseDependencies(this, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxCompilationDatabaseDependencies#getSourcePaths() sourcePaths}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of sourcePaths elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxCompilationDatabaseDependencies withSourcePaths(Iterable<? extends SourcePath> elements) {
+    if (this.sourcePaths == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new CxxCompilationDatabaseDependencies(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxCompilationDatabaseDependencies} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxCompilationDatabaseDependencies
+        && equalTo((CxxCompilationDatabaseDependencies) another);
+  }
+
+  private boolean equalTo(CxxCompilationDatabaseDependencies another) {
+    return sourcePaths.equals(another.sourcePaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sourcePaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + sourcePaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxCompilationDatabaseDependencies} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxCompilationDatabaseDependencies")
+        .omitNullValues()
+        .add("sourcePaths", sourcePaths)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxCompilationDatabaseDependencies} instance.
+   * @param sourcePaths The value for the {@code sourcePaths} attribute
+   * @return An immutable CxxCompilationDatabaseDependencies instance
+   */
+  public static CxxCompilationDatabaseDependencies of(ImmutableSet<SourcePath> sourcePaths) {
+    return of((Iterable<? extends SourcePath>) sourcePaths);
+  }
+
+  /**
+   * Construct a new immutable {@code CxxCompilationDatabaseDependencies} instance.
+   * @param sourcePaths The value for the {@code sourcePaths} attribute
+   * @return An immutable CxxCompilationDatabaseDependencies instance
+   */
+  public static CxxCompilationDatabaseDependencies of(Iterable<? extends SourcePath> sourcePaths) {
+    return new CxxCompilationDatabaseDependencies(sourcePaths);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxCompilationDatabaseDependencies} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxCompilationDatabaseDependencies instance
+   */
+  public static CxxCompilationDatabaseDependencies copyOf(AbstractCxxCompilationDatabaseDependencies instance) {
+    if (instance instanceof CxxCompilationDatabaseDependencies) {
+      return (CxxCompilationDatabaseDependencies) instance;
+    }
+    return CxxCompilationDatabaseDependencies.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CxxCompilationDatabaseDependencies CxxCompilationDatabaseDependencies}.
+   * @return A new CxxCompilationDatabaseDependencies builder
+   */
+  public static CxxCompilationDatabaseDependencies.Builder builder() {
+    return new CxxCompilationDatabaseDependencies.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxCompilationDatabaseDependencies CxxCompilationDatabaseDependencies}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSet.Builder<SourcePath> sourcePaths = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractCxxCompilationDatabaseDependencies} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AbstractCxxCompilationDatabaseDependencies instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllSourcePaths(instance.getSourcePaths());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxCompilationDatabaseDependencies#getSourcePaths() sourcePaths} set.
+     * @param element A sourcePaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSourcePaths(SourcePath element) {
+      this.sourcePaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxCompilationDatabaseDependencies#getSourcePaths() sourcePaths} set.
+     * @param elements An array of sourcePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSourcePaths(SourcePath... elements) {
+      this.sourcePaths.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxCompilationDatabaseDependencies#getSourcePaths() sourcePaths} set.
+     * @param elements An iterable of sourcePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourcePaths(Iterable<? extends SourcePath> elements) {
+      this.sourcePaths = ImmutableSet.builder();
+      return addAllSourcePaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxCompilationDatabaseDependencies#getSourcePaths() sourcePaths} set.
+     * @param elements An iterable of sourcePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSourcePaths(Iterable<? extends SourcePath> elements) {
+      this.sourcePaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxCompilationDatabaseDependencies CxxCompilationDatabaseDependencies}.
+     * @return An immutable instance of CxxCompilationDatabaseDependencies
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxCompilationDatabaseDependencies build() {
+      return new CxxCompilationDatabaseDependencies(null, sourcePaths.build());
+    }
+  }
+}
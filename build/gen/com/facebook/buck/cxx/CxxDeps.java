@@ -0,0 +1,176 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * The group of {@link BuildTarget}s from C/C++ constructor args which comprise a C/C++ descriptions
+ * logical C/C++ deps used to find dependency {@link NativeLinkable}s or {@link
+ * CxxPreprocessorDep}s.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxDeps"})
+@Immutable
+public final class CxxDeps extends AbstractCxxDeps {
+  private final ImmutableList<BuildTarget> deps;
+  private final ImmutableList<PatternMatchedCollection<ImmutableSortedSet<BuildTarget>>> platformDeps;
+
+  private CxxDeps(
+      Iterable<? extends BuildTarget> deps,
+      Iterable<? extends PatternMatchedCollection<ImmutableSortedSet<BuildTarget>>> platformDeps) {
+    this.deps = ImmutableList.copyOf(deps);
+    this.platformDeps = ImmutableList.copyOf(platformDeps);
+  }
+
+  private CxxDeps(
+      CxxDeps original,
+      ImmutableList<BuildTarget> deps,
+      ImmutableList<PatternMatchedCollection<ImmutableSortedSet<BuildTarget>>> platformDeps) {
+    this.deps = deps;
+    this.platformDeps = platformDeps;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableList<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code platformDeps} attribute
+   */
+  @Override
+  public ImmutableList<PatternMatchedCollection<ImmutableSortedSet<BuildTarget>>> getPlatformDeps() {
+    return platformDeps;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxDeps#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxDeps withDeps(BuildTarget... elements) {
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new CxxDeps(this, newValue, this.platformDeps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxDeps#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxDeps withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new CxxDeps(this, newValue, this.platformDeps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxDeps#getPlatformDeps() platformDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  @SafeVarargs @SuppressWarnings("varargs")
+  public final CxxDeps withPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>>... elements) {
+    ImmutableList<PatternMatchedCollection<ImmutableSortedSet<BuildTarget>>> newValue = ImmutableList.copyOf(elements);
+    return new CxxDeps(this, this.deps, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxDeps#getPlatformDeps() platformDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of platformDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxDeps withPlatformDeps(Iterable<? extends PatternMatchedCollection<ImmutableSortedSet<BuildTarget>>> elements) {
+    if (this.platformDeps == elements) return this;
+    ImmutableList<PatternMatchedCollection<ImmutableSortedSet<BuildTarget>>> newValue = ImmutableList.copyOf(elements);
+    return new CxxDeps(this, this.deps, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxDeps} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxDeps
+        && equalTo((CxxDeps) another);
+  }
+
+  private boolean equalTo(CxxDeps another) {
+    return deps.equals(another.deps)
+        && platformDeps.equals(another.platformDeps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code deps}, {@code platformDeps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + platformDeps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxDeps} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxDeps")
+        .omitNullValues()
+        .add("deps", deps)
+        .add("platformDeps", platformDeps)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxDeps} instance.
+   * @param deps The value for the {@code deps} attribute
+   * @param platformDeps The value for the {@code platformDeps} attribute
+   * @return An immutable CxxDeps instance
+   */
+  public static CxxDeps of(ImmutableList<BuildTarget> deps, ImmutableList<PatternMatchedCollection<ImmutableSortedSet<BuildTarget>>> platformDeps) {
+    return of((Iterable<? extends BuildTarget>) deps, (Iterable<? extends PatternMatchedCollection<ImmutableSortedSet<BuildTarget>>>) platformDeps);
+  }
+
+  /**
+   * Construct a new immutable {@code CxxDeps} instance.
+   * @param deps The value for the {@code deps} attribute
+   * @param platformDeps The value for the {@code platformDeps} attribute
+   * @return An immutable CxxDeps instance
+   */
+  public static CxxDeps of(Iterable<? extends BuildTarget> deps, Iterable<? extends PatternMatchedCollection<ImmutableSortedSet<BuildTarget>>> platformDeps) {
+    return new CxxDeps(deps, platformDeps);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxDeps} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxDeps instance
+   */
+  static CxxDeps copyOf(AbstractCxxDeps instance) {
+    if (instance instanceof CxxDeps) {
+      return (CxxDeps) instance;
+    }
+    return CxxDeps.of(instance.getDeps(), instance.getPlatformDeps());
+  }
+}
@@ -0,0 +1,513 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CxxPrecompiledHeaderDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg"})
+@Immutable
+public final class CxxPrecompiledHeaderDescriptionArg
+    implements CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg {
+  private final SourcePath src;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSet<SourcePath> licenses;
+  private final String name;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private CxxPrecompiledHeaderDescriptionArg(
+      SourcePath src,
+      ImmutableSortedSet<String> labels,
+      ImmutableSet<SourcePath> licenses,
+      String name,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.src = src;
+    this.labels = labels;
+    this.licenses = licenses;
+    this.name = name;
+    this.deps = deps;
+  }
+
+  /**
+   * @return The value of the {@code src} attribute
+   */
+  @Override
+  public SourcePath getSrc() {
+    return src;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getSrc() src} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for src
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPrecompiledHeaderDescriptionArg withSrc(SourcePath value) {
+    if (this.src == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "src");
+    return new CxxPrecompiledHeaderDescriptionArg(newValue, this.labels, this.licenses, this.name, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPrecompiledHeaderDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new CxxPrecompiledHeaderDescriptionArg(this.src, newValue, this.licenses, this.name, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPrecompiledHeaderDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new CxxPrecompiledHeaderDescriptionArg(this.src, newValue, this.licenses, this.name, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPrecompiledHeaderDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new CxxPrecompiledHeaderDescriptionArg(this.src, this.labels, newValue, this.name, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPrecompiledHeaderDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new CxxPrecompiledHeaderDescriptionArg(this.src, this.labels, newValue, this.name, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPrecompiledHeaderDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new CxxPrecompiledHeaderDescriptionArg(this.src, this.labels, this.licenses, newValue, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPrecompiledHeaderDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new CxxPrecompiledHeaderDescriptionArg(this.src, this.labels, this.licenses, this.name, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPrecompiledHeaderDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new CxxPrecompiledHeaderDescriptionArg(this.src, this.labels, this.licenses, this.name, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxPrecompiledHeaderDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxPrecompiledHeaderDescriptionArg
+        && equalTo((CxxPrecompiledHeaderDescriptionArg) another);
+  }
+
+  private boolean equalTo(CxxPrecompiledHeaderDescriptionArg another) {
+    return src.equals(another.src)
+        && labels.equals(another.labels)
+        && licenses.equals(another.licenses)
+        && name.equals(another.name)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code src}, {@code labels}, {@code licenses}, {@code name}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + src.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxPrecompiledHeaderDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxPrecompiledHeaderDescriptionArg")
+        .omitNullValues()
+        .add("src", src)
+        .add("labels", labels)
+        .add("licenses", licenses)
+        .add("name", name)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxPrecompiledHeaderDescriptionArg instance
+   */
+  static CxxPrecompiledHeaderDescriptionArg copyOf(CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg instance) {
+    if (instance instanceof CxxPrecompiledHeaderDescriptionArg) {
+      return (CxxPrecompiledHeaderDescriptionArg) instance;
+    }
+    return CxxPrecompiledHeaderDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CxxPrecompiledHeaderDescriptionArg CxxPrecompiledHeaderDescriptionArg}.
+   * @return A new CxxPrecompiledHeaderDescriptionArg builder
+   */
+  public static CxxPrecompiledHeaderDescriptionArg.Builder builder() {
+    return new CxxPrecompiledHeaderDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxPrecompiledHeaderDescriptionArg CxxPrecompiledHeaderDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SRC = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable SourcePath src;
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private @Nullable String name;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxPrecompiledHeaderDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxPrecompiledHeaderDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxPrecompiledHeaderDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg) {
+        CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg instance = (CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg) object;
+        setSrc(instance.getSrc());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getSrc() src} attribute.
+     * @param src The value for src 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrc(SourcePath src) {
+      this.src = Objects.requireNonNull(src, "src");
+      initBits &= ~INIT_BIT_SRC;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPrecompiledHeaderDescription.AbstractCxxPrecompiledHeaderDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxPrecompiledHeaderDescriptionArg CxxPrecompiledHeaderDescriptionArg}.
+     * @return An immutable instance of CxxPrecompiledHeaderDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxPrecompiledHeaderDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CxxPrecompiledHeaderDescriptionArg(src, labels.build(), licenses.build(), name, deps.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SRC) != 0) attributes.add("src");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build CxxPrecompiledHeaderDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
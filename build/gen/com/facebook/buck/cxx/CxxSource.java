@@ -0,0 +1,327 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Describes a source file written in the C programming language or a derivative (C++, Objective-C,
+ * Objective-C++, etc.) and the various paths it uses from input to output.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxSource"})
+@Immutable
+public final class CxxSource extends AbstractCxxSource {
+  private final AbstractCxxSource.Type type;
+  private final SourcePath path;
+  private final ImmutableList<String> flags;
+
+  private CxxSource(
+      AbstractCxxSource.Type type,
+      SourcePath path,
+      Iterable<String> flags) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.path = Objects.requireNonNull(path, "path");
+    this.flags = ImmutableList.copyOf(flags);
+  }
+
+  private CxxSource(
+      CxxSource original,
+      AbstractCxxSource.Type type,
+      SourcePath path,
+      ImmutableList<String> flags) {
+    this.type = type;
+    this.path = path;
+    this.flags = flags;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public AbstractCxxSource.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public SourcePath getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code flags} attribute
+   */
+  @Override
+  public ImmutableList<String> getFlags() {
+    return flags;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSource#getType() type} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSource withType(AbstractCxxSource.Type value) {
+    if (this.type == value) return this;
+    AbstractCxxSource.Type newValue = Objects.requireNonNull(value, "type");
+    return new CxxSource(this, newValue, this.path, this.flags);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSource#getPath() path} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSource withPath(SourcePath value) {
+    if (this.path == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "path");
+    return new CxxSource(this, this.type, newValue, this.flags);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxSource#getFlags() flags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSource withFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxSource(this, this.type, this.path, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxSource#getFlags() flags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of flags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSource withFlags(Iterable<String> elements) {
+    if (this.flags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxSource(this, this.type, this.path, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxSource} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxSource
+        && equalTo((CxxSource) another);
+  }
+
+  private boolean equalTo(CxxSource another) {
+    return type.equals(another.type)
+        && path.equals(another.path)
+        && flags.equals(another.flags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code path}, {@code flags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + flags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxSource} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxSource")
+        .omitNullValues()
+        .add("type", type)
+        .add("path", path)
+        .add("flags", flags)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxSource} instance.
+   * @param type The value for the {@code type} attribute
+   * @param path The value for the {@code path} attribute
+   * @param flags The value for the {@code flags} attribute
+   * @return An immutable CxxSource instance
+   */
+  public static CxxSource of(AbstractCxxSource.Type type, SourcePath path, List<String> flags) {
+    return of(type, path, (Iterable<String>) flags);
+  }
+
+  /**
+   * Construct a new immutable {@code CxxSource} instance.
+   * @param type The value for the {@code type} attribute
+   * @param path The value for the {@code path} attribute
+   * @param flags The value for the {@code flags} attribute
+   * @return An immutable CxxSource instance
+   */
+  public static CxxSource of(AbstractCxxSource.Type type, SourcePath path, Iterable<String> flags) {
+    return new CxxSource(type, path, flags);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxSource} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxSource instance
+   */
+  public static CxxSource copyOf(AbstractCxxSource instance) {
+    if (instance instanceof CxxSource) {
+      return (CxxSource) instance;
+    }
+    return CxxSource.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CxxSource CxxSource}.
+   * @return A new CxxSource builder
+   */
+  public static CxxSource.Builder builder() {
+    return new CxxSource.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxSource CxxSource}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TYPE = 0x1L;
+    private static final long INIT_BIT_PATH = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable AbstractCxxSource.Type type;
+    private @Nullable SourcePath path;
+    private ImmutableList.Builder<String> flags = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractCxxSource} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AbstractCxxSource instance) {
+      Objects.requireNonNull(instance, "instance");
+      setType(instance.getType());
+      setPath(instance.getPath());
+      addAllFlags(instance.getFlags());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSource#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setType(AbstractCxxSource.Type type) {
+      this.type = Objects.requireNonNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSource#getPath() path} attribute.
+     * @param path The value for path 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPath(SourcePath path) {
+      this.path = Objects.requireNonNull(path, "path");
+      initBits &= ~INIT_BIT_PATH;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractCxxSource#getFlags() flags} list.
+     * @param element A flags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFlags(String element) {
+      this.flags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxSource#getFlags() flags} list.
+     * @param elements An array of flags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFlags(String... elements) {
+      this.flags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxSource#getFlags() flags} list.
+     * @param elements An iterable of flags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFlags(Iterable<String> elements) {
+      this.flags = ImmutableList.builder();
+      return addAllFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxSource#getFlags() flags} list.
+     * @param elements An iterable of flags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllFlags(Iterable<String> elements) {
+      this.flags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxSource CxxSource}.
+     * @return An immutable instance of CxxSource
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxSource build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CxxSource(null, type, path, flags.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      if ((initBits & INIT_BIT_PATH) != 0) attributes.add("path");
+      return "Cannot build CxxSource, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,647 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Encapsulates headers modeled using a {@link HeaderSymlinkTree}. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxSymlinkTreeHeaders"})
+@Immutable
+public final class CxxSymlinkTreeHeaders extends AbstractCxxSymlinkTreeHeaders {
+  private final CxxPreprocessables.IncludeType includeType;
+  private final SourcePath root;
+  private final SourcePath includeRoot;
+  private final @Nullable SourcePath headerMap;
+  private final @Nullable SourcePath vfsOverlay;
+  private final ImmutableMap<Path, SourcePath> nameToPathMap;
+  private final BuildTarget buildTarget;
+  private final int hashCode;
+
+  private CxxSymlinkTreeHeaders(CxxSymlinkTreeHeaders.Builder builder) {
+    this.includeType = builder.includeType;
+    this.root = builder.root;
+    this.headerMap = builder.headerMap;
+    this.vfsOverlay = builder.vfsOverlay;
+    this.nameToPathMap = builder.nameToPathMap.build();
+    this.buildTarget = builder.buildTarget;
+    this.includeRoot = builder.includeRoot != null
+        ? builder.includeRoot
+        : Objects.requireNonNull(super.getIncludeRoot(), "includeRoot");
+    this.hashCode = computeHashCode();
+  }
+
+  private CxxSymlinkTreeHeaders(
+      CxxPreprocessables.IncludeType includeType,
+      SourcePath root,
+      SourcePath includeRoot,
+      @Nullable SourcePath headerMap,
+      @Nullable SourcePath vfsOverlay,
+      ImmutableMap<Path, SourcePath> nameToPathMap,
+      BuildTarget buildTarget) {
+    this.includeType = includeType;
+    this.root = root;
+    this.includeRoot = includeRoot;
+    this.headerMap = headerMap;
+    this.vfsOverlay = vfsOverlay;
+    this.nameToPathMap = nameToPathMap;
+    this.buildTarget = buildTarget;
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code includeType} attribute
+   */
+  @Override
+  public CxxPreprocessables.IncludeType getIncludeType() {
+    return includeType;
+  }
+
+  /**
+   * @return The value of the {@code root} attribute
+   */
+  @Override
+  public SourcePath getRoot() {
+    return root;
+  }
+
+  /**
+   * @return the path to add to the preprocessor search path to find the includes. This defaults to
+   *     the root, but can be overridden to use an alternate path.
+   */
+  @Override
+  public SourcePath getIncludeRoot() {
+    return includeRoot;
+  }
+
+  /**
+   * @return The value of the {@code headerMap} attribute
+   */
+  @Override
+  public Optional<SourcePath> getHeaderMap() {
+    return Optional.ofNullable(headerMap);
+  }
+
+  /**
+   * @return The value of the {@code vfsOverlay} attribute
+   */
+  @Override
+  public Optional<SourcePath> getVfsOverlay() {
+    return Optional.ofNullable(vfsOverlay);
+  }
+
+  /**
+   * @return The value of the {@code nameToPathMap} attribute
+   */
+  @Override
+  public ImmutableMap<Path, SourcePath> getNameToPathMap() {
+    return nameToPathMap;
+  }
+
+  /**
+   *The build target that this object is modeling. 
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSymlinkTreeHeaders#getIncludeType() includeType} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for includeType
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSymlinkTreeHeaders withIncludeType(CxxPreprocessables.IncludeType value) {
+    if (this.includeType == value) return this;
+    CxxPreprocessables.IncludeType newValue = Objects.requireNonNull(value, "includeType");
+    return new CxxSymlinkTreeHeaders(
+        newValue,
+        this.root,
+        this.includeRoot,
+        this.headerMap,
+        this.vfsOverlay,
+        this.nameToPathMap,
+        this.buildTarget);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSymlinkTreeHeaders#getRoot() root} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for root
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSymlinkTreeHeaders withRoot(SourcePath value) {
+    if (this.root == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "root");
+    return new CxxSymlinkTreeHeaders(
+        this.includeType,
+        newValue,
+        this.includeRoot,
+        this.headerMap,
+        this.vfsOverlay,
+        this.nameToPathMap,
+        this.buildTarget);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSymlinkTreeHeaders#getIncludeRoot() includeRoot} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for includeRoot
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSymlinkTreeHeaders withIncludeRoot(SourcePath value) {
+    if (this.includeRoot == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "includeRoot");
+    return new CxxSymlinkTreeHeaders(
+        this.includeType,
+        this.root,
+        newValue,
+        this.headerMap,
+        this.vfsOverlay,
+        this.nameToPathMap,
+        this.buildTarget);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCxxSymlinkTreeHeaders#getHeaderMap() headerMap} attribute.
+   * @param value The value for headerMap
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSymlinkTreeHeaders withHeaderMap(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "headerMap");
+    if (this.headerMap == newValue) return this;
+    return new CxxSymlinkTreeHeaders(
+        this.includeType,
+        this.root,
+        this.includeRoot,
+        newValue,
+        this.vfsOverlay,
+        this.nameToPathMap,
+        this.buildTarget);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCxxSymlinkTreeHeaders#getHeaderMap() headerMap} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for headerMap
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSymlinkTreeHeaders withHeaderMap(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.headerMap == value) return this;
+    return new CxxSymlinkTreeHeaders(
+        this.includeType,
+        this.root,
+        this.includeRoot,
+        value,
+        this.vfsOverlay,
+        this.nameToPathMap,
+        this.buildTarget);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCxxSymlinkTreeHeaders#getVfsOverlay() vfsOverlay} attribute.
+   * @param value The value for vfsOverlay
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSymlinkTreeHeaders withVfsOverlay(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "vfsOverlay");
+    if (this.vfsOverlay == newValue) return this;
+    return new CxxSymlinkTreeHeaders(
+        this.includeType,
+        this.root,
+        this.includeRoot,
+        this.headerMap,
+        newValue,
+        this.nameToPathMap,
+        this.buildTarget);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCxxSymlinkTreeHeaders#getVfsOverlay() vfsOverlay} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for vfsOverlay
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSymlinkTreeHeaders withVfsOverlay(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.vfsOverlay == value) return this;
+    return new CxxSymlinkTreeHeaders(
+        this.includeType,
+        this.root,
+        this.includeRoot,
+        this.headerMap,
+        value,
+        this.nameToPathMap,
+        this.buildTarget);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCxxSymlinkTreeHeaders#getNameToPathMap() nameToPathMap} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the nameToPathMap map
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSymlinkTreeHeaders withNameToPathMap(Map<? extends Path, ? extends SourcePath> entries) {
+    if (this.nameToPathMap == entries) return this;
+    ImmutableMap<Path, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return new CxxSymlinkTreeHeaders(
+        this.includeType,
+        this.root,
+        this.includeRoot,
+        this.headerMap,
+        this.vfsOverlay,
+        newValue,
+        this.buildTarget);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSymlinkTreeHeaders#getBuildTarget() buildTarget} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildTarget
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSymlinkTreeHeaders withBuildTarget(BuildTarget value) {
+    if (this.buildTarget == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "buildTarget");
+    return new CxxSymlinkTreeHeaders(
+        this.includeType,
+        this.root,
+        this.includeRoot,
+        this.headerMap,
+        this.vfsOverlay,
+        this.nameToPathMap,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxSymlinkTreeHeaders} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxSymlinkTreeHeaders
+        && equalTo((CxxSymlinkTreeHeaders) another);
+  }
+
+  private boolean equalTo(CxxSymlinkTreeHeaders another) {
+    if (hashCode != another.hashCode) return false;
+    return includeType.equals(another.includeType)
+        && root.equals(another.root)
+        && includeRoot.equals(another.includeRoot)
+        && Objects.equals(headerMap, another.headerMap)
+        && Objects.equals(vfsOverlay, another.vfsOverlay)
+        && buildTarget.equals(another.buildTarget);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code includeType}, {@code root}, {@code includeRoot}, {@code headerMap}, {@code vfsOverlay}, {@code buildTarget}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int h = 5381;
+    h += (h << 5) + includeType.hashCode();
+    h += (h << 5) + root.hashCode();
+    h += (h << 5) + includeRoot.hashCode();
+    h += (h << 5) + Objects.hashCode(headerMap);
+    h += (h << 5) + Objects.hashCode(vfsOverlay);
+    h += (h << 5) + buildTarget.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxSymlinkTreeHeaders} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxSymlinkTreeHeaders")
+        .omitNullValues()
+        .add("includeType", includeType)
+        .add("root", root)
+        .add("includeRoot", includeRoot)
+        .add("headerMap", headerMap)
+        .add("vfsOverlay", vfsOverlay)
+        .add("buildTarget", buildTarget)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxSymlinkTreeHeaders} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxSymlinkTreeHeaders instance
+   */
+  static CxxSymlinkTreeHeaders copyOf(AbstractCxxSymlinkTreeHeaders instance) {
+    if (instance instanceof CxxSymlinkTreeHeaders) {
+      return (CxxSymlinkTreeHeaders) instance;
+    }
+    return CxxSymlinkTreeHeaders.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CxxSymlinkTreeHeaders CxxSymlinkTreeHeaders}.
+   * @return A new CxxSymlinkTreeHeaders builder
+   */
+  public static CxxSymlinkTreeHeaders.Builder builder() {
+    return new CxxSymlinkTreeHeaders.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxSymlinkTreeHeaders CxxSymlinkTreeHeaders}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_INCLUDE_TYPE = 0x1L;
+    private static final long INIT_BIT_ROOT = 0x2L;
+    private static final long INIT_BIT_BUILD_TARGET = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable CxxPreprocessables.IncludeType includeType;
+    private @Nullable SourcePath root;
+    private @Nullable SourcePath includeRoot;
+    private @Nullable SourcePath headerMap;
+    private @Nullable SourcePath vfsOverlay;
+    private ImmutableMap.Builder<Path, SourcePath> nameToPathMap = ImmutableMap.builder();
+    private @Nullable BuildTarget buildTarget;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.CxxHeaders} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxHeaders instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxSymlinkTreeHeaders} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxSymlinkTreeHeaders instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxSymlinkTreeHeaders} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractCxxSymlinkTreeHeaders instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof CxxHeaders) {
+        CxxHeaders instance = (CxxHeaders) object;
+        if ((bits & 0x1L) == 0) {
+          setIncludeType(instance.getIncludeType());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          Optional<SourcePath> headerMapOptional = instance.getHeaderMap();
+          if (headerMapOptional.isPresent()) {
+            setHeaderMap(headerMapOptional);
+          }
+          bits |= 0x2L;
+        }
+        if ((bits & 0x4L) == 0) {
+          setRoot(instance.getRoot());
+          bits |= 0x4L;
+        }
+        if ((bits & 0x8L) == 0) {
+          setIncludeRoot(instance.getIncludeRoot());
+          bits |= 0x8L;
+        }
+        if ((bits & 0x10L) == 0) {
+          Optional<SourcePath> vfsOverlayOptional = instance.getVfsOverlay();
+          if (vfsOverlayOptional.isPresent()) {
+            setVfsOverlay(vfsOverlayOptional);
+          }
+          bits |= 0x10L;
+        }
+      }
+      if (object instanceof AbstractCxxSymlinkTreeHeaders) {
+        AbstractCxxSymlinkTreeHeaders instance = (AbstractCxxSymlinkTreeHeaders) object;
+        if ((bits & 0x1L) == 0) {
+          setIncludeType(instance.getIncludeType());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          Optional<SourcePath> headerMapOptional = instance.getHeaderMap();
+          if (headerMapOptional.isPresent()) {
+            setHeaderMap(headerMapOptional);
+          }
+          bits |= 0x2L;
+        }
+        if ((bits & 0x4L) == 0) {
+          setRoot(instance.getRoot());
+          bits |= 0x4L;
+        }
+        putAllNameToPathMap(instance.getNameToPathMap());
+        if ((bits & 0x8L) == 0) {
+          setIncludeRoot(instance.getIncludeRoot());
+          bits |= 0x8L;
+        }
+        if ((bits & 0x10L) == 0) {
+          Optional<SourcePath> vfsOverlayOptional = instance.getVfsOverlay();
+          if (vfsOverlayOptional.isPresent()) {
+            setVfsOverlay(vfsOverlayOptional);
+          }
+          bits |= 0x10L;
+        }
+        setBuildTarget(instance.getBuildTarget());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSymlinkTreeHeaders#getIncludeType() includeType} attribute.
+     * @param includeType The value for includeType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludeType(CxxPreprocessables.IncludeType includeType) {
+      this.includeType = Objects.requireNonNull(includeType, "includeType");
+      initBits &= ~INIT_BIT_INCLUDE_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSymlinkTreeHeaders#getRoot() root} attribute.
+     * @param root The value for root 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRoot(SourcePath root) {
+      this.root = Objects.requireNonNull(root, "root");
+      initBits &= ~INIT_BIT_ROOT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSymlinkTreeHeaders#getIncludeRoot() includeRoot} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractCxxSymlinkTreeHeaders#getIncludeRoot() includeRoot}.</em>
+     * @param includeRoot The value for includeRoot 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludeRoot(SourcePath includeRoot) {
+      this.includeRoot = Objects.requireNonNull(includeRoot, "includeRoot");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractCxxSymlinkTreeHeaders#getHeaderMap() headerMap} to headerMap.
+     * @param headerMap The value for headerMap
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setHeaderMap(SourcePath headerMap) {
+      this.headerMap = Objects.requireNonNull(headerMap, "headerMap");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxSymlinkTreeHeaders#getHeaderMap() headerMap} to headerMap.
+     * @param headerMap The value for headerMap
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHeaderMap(Optional<? extends SourcePath> headerMap) {
+      this.headerMap = headerMap.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxSymlinkTreeHeaders#getVfsOverlay() vfsOverlay} to vfsOverlay.
+     * @param vfsOverlay The value for vfsOverlay
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVfsOverlay(SourcePath vfsOverlay) {
+      this.vfsOverlay = Objects.requireNonNull(vfsOverlay, "vfsOverlay");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxSymlinkTreeHeaders#getVfsOverlay() vfsOverlay} to vfsOverlay.
+     * @param vfsOverlay The value for vfsOverlay
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVfsOverlay(Optional<? extends SourcePath> vfsOverlay) {
+      this.vfsOverlay = vfsOverlay.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCxxSymlinkTreeHeaders#getNameToPathMap() nameToPathMap} map.
+     * @param key The key in the nameToPathMap map
+     * @param value The associated value in the nameToPathMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putNameToPathMap(Path key, SourcePath value) {
+      this.nameToPathMap.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCxxSymlinkTreeHeaders#getNameToPathMap() nameToPathMap} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putNameToPathMap(Map.Entry<? extends Path, ? extends SourcePath> entry) {
+      this.nameToPathMap.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCxxSymlinkTreeHeaders#getNameToPathMap() nameToPathMap} map. Nulls are not permitted
+     * @param nameToPathMap The entries that will be added to the nameToPathMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNameToPathMap(Map<? extends Path, ? extends SourcePath> nameToPathMap) {
+      this.nameToPathMap = ImmutableMap.builder();
+      return putAllNameToPathMap(nameToPathMap);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCxxSymlinkTreeHeaders#getNameToPathMap() nameToPathMap} map. Nulls are not permitted
+     * @param nameToPathMap The entries that will be added to the nameToPathMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllNameToPathMap(Map<? extends Path, ? extends SourcePath> nameToPathMap) {
+      this.nameToPathMap.putAll(nameToPathMap);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSymlinkTreeHeaders#getBuildTarget() buildTarget} attribute.
+     * @param buildTarget The value for buildTarget 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildTarget(BuildTarget buildTarget) {
+      this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+      initBits &= ~INIT_BIT_BUILD_TARGET;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link CxxSymlinkTreeHeaders CxxSymlinkTreeHeaders}.
+     * @return An immutable instance of CxxSymlinkTreeHeaders
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxSymlinkTreeHeaders build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CxxSymlinkTreeHeaders(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_INCLUDE_TYPE) != 0) attributes.add("includeType");
+      if ((initBits & INIT_BIT_ROOT) != 0) attributes.add("root");
+      if ((initBits & INIT_BIT_BUILD_TARGET) != 0) attributes.add("buildTarget");
+      return "Cannot build CxxSymlinkTreeHeaders, some of required attributes are not set " + attributes;
+    }
+  }
+}
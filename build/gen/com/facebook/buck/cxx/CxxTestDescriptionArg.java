@@ -0,0 +1,6399 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.cxx.toolchain.HasSystemFrameworkAndLibraries;
+import com.facebook.buck.cxx.toolchain.linker.Linker;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Flavor;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasContacts;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasDefaultPlatform;
+import com.facebook.buck.rules.HasDepsQuery;
+import com.facebook.buck.rules.HasTestTimeout;
+import com.facebook.buck.rules.HasTests;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.SourceWithFlags;
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.facebook.buck.rules.coercer.SourceList;
+import com.facebook.buck.rules.macros.StringWithMacros;
+import com.facebook.buck.rules.query.Query;
+import com.facebook.buck.versions.HasVersionUniverse;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link CxxTestDescription.AbstractCxxTestDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CxxTestDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "CxxTestDescription.AbstractCxxTestDescriptionArg"})
+@Immutable
+public final class CxxTestDescriptionArg
+    implements CxxTestDescription.AbstractCxxTestDescriptionArg {
+  private final @Nullable CxxTestType framework;
+  private final ImmutableMap<String, String> env;
+  private final ImmutableList<String> args;
+  private final @Nullable Boolean runTestSeparately;
+  private final @Nullable Boolean useDefaultTestMain;
+  private final ImmutableSortedSet<Path> resources;
+  private final ImmutableSet<SourcePath> additionalCoverageTargets;
+  private final boolean linkDepsQueryWhole;
+  private final @Nullable Linker.LinkableDepType linkStyle;
+  private final boolean thinLto;
+  private final ImmutableSortedSet<SourceWithFlags> srcs;
+  private final PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> platformSrcs;
+  private final SourceList headers;
+  private final ImmutableSortedSet<SourcePath> rawHeaders;
+  private final PatternMatchedCollection<SourceList> platformHeaders;
+  private final @Nullable SourcePath prefixHeader;
+  private final @Nullable SourcePath precompiledHeader;
+  private final ImmutableList<StringWithMacros> compilerFlags;
+  private final ImmutableMap<AbstractCxxSource.Type, ImmutableList<StringWithMacros>> langCompilerFlags;
+  private final PatternMatchedCollection<ImmutableList<StringWithMacros>> platformCompilerFlags;
+  private final ImmutableList<StringWithMacros> preprocessorFlags;
+  private final PatternMatchedCollection<ImmutableList<StringWithMacros>> platformPreprocessorFlags;
+  private final ImmutableMap<AbstractCxxSource.Type, ImmutableList<StringWithMacros>> langPreprocessorFlags;
+  private final ImmutableList<StringWithMacros> linkerFlags;
+  private final PatternMatchedCollection<ImmutableList<StringWithMacros>> platformLinkerFlags;
+  private final PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+  private final @Nullable String headerNamespace;
+  private final @Nullable Linker.CxxRuntimeType cxxRuntimeType;
+  private final ImmutableList<String> includeDirs;
+  private final ImmutableMap<String, Flavor> defaults;
+  private final ImmutableSortedSet<Flavor> defaultFlavors;
+  private final CxxDeps cxxDeps;
+  private final CxxDeps privateCxxDeps;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSet<SourcePath> licenses;
+  private final String name;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final @Nullable Flavor defaultPlatform;
+  private final ImmutableSortedSet<BuildTarget> tests;
+  private final ImmutableSortedSet<FrameworkPath> frameworks;
+  private final ImmutableSortedSet<FrameworkPath> libraries;
+  private final @Nullable String versionUniverse;
+  private final @Nullable Query depsQuery;
+  private final ImmutableSortedSet<String> contacts;
+  private final @Nullable Long testRuleTimeoutMs;
+
+  private CxxTestDescriptionArg(CxxTestDescriptionArg.Builder builder) {
+    this.framework = builder.framework;
+    this.env = builder.env.build();
+    this.args = builder.args.build();
+    this.runTestSeparately = builder.runTestSeparately;
+    this.useDefaultTestMain = builder.useDefaultTestMain;
+    this.resources = builder.resources.build();
+    this.additionalCoverageTargets = builder.additionalCoverageTargets.build();
+    this.linkStyle = builder.linkStyle;
+    this.srcs = builder.srcs.build();
+    this.prefixHeader = builder.prefixHeader;
+    this.precompiledHeader = builder.precompiledHeader;
+    this.compilerFlags = builder.compilerFlags.build();
+    this.langCompilerFlags = Maps.immutableEnumMap(builder.langCompilerFlags.build());
+    this.preprocessorFlags = builder.preprocessorFlags.build();
+    this.langPreprocessorFlags = Maps.immutableEnumMap(builder.langPreprocessorFlags.build());
+    this.linkerFlags = builder.linkerFlags.build();
+    this.headerNamespace = builder.headerNamespace;
+    this.cxxRuntimeType = builder.cxxRuntimeType;
+    this.includeDirs = builder.includeDirs.build();
+    this.defaults = builder.defaults.build();
+    this.labels = builder.labels.build();
+    this.licenses = builder.licenses.build();
+    this.name = builder.name;
+    this.deps = builder.deps.build();
+    this.defaultPlatform = builder.defaultPlatform;
+    this.tests = builder.tests.build();
+    this.frameworks = builder.frameworks.build();
+    this.libraries = builder.libraries.build();
+    this.versionUniverse = builder.versionUniverse;
+    this.depsQuery = builder.depsQuery;
+    this.contacts = builder.contacts.build();
+    this.testRuleTimeoutMs = builder.testRuleTimeoutMs;
+    if (builder.linkDepsQueryWholeIsSet()) {
+      initShim.setLinkDepsQueryWhole(builder.linkDepsQueryWhole);
+    }
+    if (builder.thinLtoIsSet()) {
+      initShim.setThinLto(builder.thinLto);
+    }
+    if (builder.platformSrcs != null) {
+      initShim.setPlatformSrcs(builder.platformSrcs);
+    }
+    if (builder.headers != null) {
+      initShim.setHeaders(builder.headers);
+    }
+    if (builder.rawHeaders != null) {
+      initShim.setRawHeaders(builder.rawHeaders);
+    }
+    if (builder.platformHeaders != null) {
+      initShim.setPlatformHeaders(builder.platformHeaders);
+    }
+    if (builder.platformCompilerFlags != null) {
+      initShim.setPlatformCompilerFlags(builder.platformCompilerFlags);
+    }
+    if (builder.platformPreprocessorFlags != null) {
+      initShim.setPlatformPreprocessorFlags(builder.platformPreprocessorFlags);
+    }
+    if (builder.platformLinkerFlags != null) {
+      initShim.setPlatformLinkerFlags(builder.platformLinkerFlags);
+    }
+    if (builder.platformDeps != null) {
+      initShim.setPlatformDeps(builder.platformDeps);
+    }
+    this.linkDepsQueryWhole = initShim.getLinkDepsQueryWhole();
+    this.thinLto = initShim.getThinLto();
+    this.platformSrcs = initShim.getPlatformSrcs();
+    this.headers = initShim.getHeaders();
+    this.rawHeaders = initShim.getRawHeaders();
+    this.platformHeaders = initShim.getPlatformHeaders();
+    this.platformCompilerFlags = initShim.getPlatformCompilerFlags();
+    this.platformPreprocessorFlags = initShim.getPlatformPreprocessorFlags();
+    this.platformLinkerFlags = initShim.getPlatformLinkerFlags();
+    this.platformDeps = initShim.getPlatformDeps();
+    this.defaultFlavors = initShim.getDefaultFlavors();
+    this.cxxDeps = initShim.getCxxDeps();
+    this.privateCxxDeps = initShim.getPrivateCxxDeps();
+    this.initShim = null;
+  }
+
+  private CxxTestDescriptionArg(
+      @Nullable CxxTestType framework,
+      ImmutableMap<String, String> env,
+      ImmutableList<String> args,
+      @Nullable Boolean runTestSeparately,
+      @Nullable Boolean useDefaultTestMain,
+      ImmutableSortedSet<Path> resources,
+      ImmutableSet<SourcePath> additionalCoverageTargets,
+      boolean linkDepsQueryWhole,
+      @Nullable Linker.LinkableDepType linkStyle,
+      boolean thinLto,
+      ImmutableSortedSet<SourceWithFlags> srcs,
+      PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> platformSrcs,
+      SourceList headers,
+      ImmutableSortedSet<SourcePath> rawHeaders,
+      PatternMatchedCollection<SourceList> platformHeaders,
+      @Nullable SourcePath prefixHeader,
+      @Nullable SourcePath precompiledHeader,
+      ImmutableList<StringWithMacros> compilerFlags,
+      ImmutableMap<AbstractCxxSource.Type, ImmutableList<StringWithMacros>> langCompilerFlags,
+      PatternMatchedCollection<ImmutableList<StringWithMacros>> platformCompilerFlags,
+      ImmutableList<StringWithMacros> preprocessorFlags,
+      PatternMatchedCollection<ImmutableList<StringWithMacros>> platformPreprocessorFlags,
+      ImmutableMap<AbstractCxxSource.Type, ImmutableList<StringWithMacros>> langPreprocessorFlags,
+      ImmutableList<StringWithMacros> linkerFlags,
+      PatternMatchedCollection<ImmutableList<StringWithMacros>> platformLinkerFlags,
+      PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps,
+      @Nullable String headerNamespace,
+      @Nullable Linker.CxxRuntimeType cxxRuntimeType,
+      ImmutableList<String> includeDirs,
+      ImmutableMap<String, Flavor> defaults,
+      ImmutableSortedSet<String> labels,
+      ImmutableSet<SourcePath> licenses,
+      String name,
+      ImmutableSortedSet<BuildTarget> deps,
+      @Nullable Flavor defaultPlatform,
+      ImmutableSortedSet<BuildTarget> tests,
+      ImmutableSortedSet<FrameworkPath> frameworks,
+      ImmutableSortedSet<FrameworkPath> libraries,
+      @Nullable String versionUniverse,
+      @Nullable Query depsQuery,
+      ImmutableSortedSet<String> contacts,
+      @Nullable Long testRuleTimeoutMs) {
+    this.framework = framework;
+    this.env = env;
+    this.args = args;
+    this.runTestSeparately = runTestSeparately;
+    this.useDefaultTestMain = useDefaultTestMain;
+    this.resources = resources;
+    this.additionalCoverageTargets = additionalCoverageTargets;
+    this.linkDepsQueryWhole = linkDepsQueryWhole;
+    this.linkStyle = linkStyle;
+    this.thinLto = thinLto;
+    this.srcs = srcs;
+    this.platformSrcs = platformSrcs;
+    this.headers = headers;
+    this.rawHeaders = rawHeaders;
+    this.platformHeaders = platformHeaders;
+    this.prefixHeader = prefixHeader;
+    this.precompiledHeader = precompiledHeader;
+    this.compilerFlags = compilerFlags;
+    this.langCompilerFlags = langCompilerFlags;
+    this.platformCompilerFlags = platformCompilerFlags;
+    this.preprocessorFlags = preprocessorFlags;
+    this.platformPreprocessorFlags = platformPreprocessorFlags;
+    this.langPreprocessorFlags = langPreprocessorFlags;
+    this.linkerFlags = linkerFlags;
+    this.platformLinkerFlags = platformLinkerFlags;
+    this.platformDeps = platformDeps;
+    this.headerNamespace = headerNamespace;
+    this.cxxRuntimeType = cxxRuntimeType;
+    this.includeDirs = includeDirs;
+    this.defaults = defaults;
+    this.labels = labels;
+    this.licenses = licenses;
+    this.name = name;
+    this.deps = deps;
+    this.defaultPlatform = defaultPlatform;
+    this.tests = tests;
+    this.frameworks = frameworks;
+    this.libraries = libraries;
+    this.versionUniverse = versionUniverse;
+    this.depsQuery = depsQuery;
+    this.contacts = contacts;
+    this.testRuleTimeoutMs = testRuleTimeoutMs;
+    initShim.setLinkDepsQueryWhole(this.linkDepsQueryWhole);
+    initShim.setThinLto(this.thinLto);
+    initShim.setPlatformSrcs(this.platformSrcs);
+    initShim.setHeaders(this.headers);
+    initShim.setRawHeaders(this.rawHeaders);
+    initShim.setPlatformHeaders(this.platformHeaders);
+    initShim.setPlatformCompilerFlags(this.platformCompilerFlags);
+    initShim.setPlatformPreprocessorFlags(this.platformPreprocessorFlags);
+    initShim.setPlatformLinkerFlags(this.platformLinkerFlags);
+    initShim.setPlatformDeps(this.platformDeps);
+    this.defaultFlavors = initShim.getDefaultFlavors();
+    this.cxxDeps = initShim.getCxxDeps();
+    this.privateCxxDeps = initShim.getPrivateCxxDeps();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean linkDepsQueryWhole;
+    private int linkDepsQueryWholeBuildStage;
+
+    boolean getLinkDepsQueryWhole() {
+      if (linkDepsQueryWholeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (linkDepsQueryWholeBuildStage == STAGE_UNINITIALIZED) {
+        linkDepsQueryWholeBuildStage = STAGE_INITIALIZING;
+        this.linkDepsQueryWhole = getLinkDepsQueryWholeInitialize();
+        linkDepsQueryWholeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.linkDepsQueryWhole;
+    }
+
+    void setLinkDepsQueryWhole(boolean linkDepsQueryWhole) {
+      this.linkDepsQueryWhole = linkDepsQueryWhole;
+      linkDepsQueryWholeBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean thinLto;
+    private int thinLtoBuildStage;
+
+    boolean getThinLto() {
+      if (thinLtoBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (thinLtoBuildStage == STAGE_UNINITIALIZED) {
+        thinLtoBuildStage = STAGE_INITIALIZING;
+        this.thinLto = getThinLtoInitialize();
+        thinLtoBuildStage = STAGE_INITIALIZED;
+      }
+      return this.thinLto;
+    }
+
+    void setThinLto(boolean thinLto) {
+      this.thinLto = thinLto;
+      thinLtoBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> platformSrcs;
+    private int platformSrcsBuildStage;
+
+    PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> getPlatformSrcs() {
+      if (platformSrcsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformSrcsBuildStage == STAGE_UNINITIALIZED) {
+        platformSrcsBuildStage = STAGE_INITIALIZING;
+        this.platformSrcs = Objects.requireNonNull(getPlatformSrcsInitialize(), "platformSrcs");
+        platformSrcsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformSrcs;
+    }
+
+    void setPlatformSrcs(PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> platformSrcs) {
+      this.platformSrcs = platformSrcs;
+      platformSrcsBuildStage = STAGE_INITIALIZED;
+    }
+    private SourceList headers;
+    private int headersBuildStage;
+
+    SourceList getHeaders() {
+      if (headersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (headersBuildStage == STAGE_UNINITIALIZED) {
+        headersBuildStage = STAGE_INITIALIZING;
+        this.headers = Objects.requireNonNull(getHeadersInitialize(), "headers");
+        headersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.headers;
+    }
+
+    void setHeaders(SourceList headers) {
+      this.headers = headers;
+      headersBuildStage = STAGE_INITIALIZED;
+    }
+    private ImmutableSortedSet<SourcePath> rawHeaders;
+    private int rawHeadersBuildStage;
+
+    ImmutableSortedSet<SourcePath> getRawHeaders() {
+      if (rawHeadersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (rawHeadersBuildStage == STAGE_UNINITIALIZED) {
+        rawHeadersBuildStage = STAGE_INITIALIZING;
+        this.rawHeaders = Objects.requireNonNull(getRawHeadersInitialize(), "rawHeaders");
+        rawHeadersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.rawHeaders;
+    }
+
+    void setRawHeaders(ImmutableSortedSet<SourcePath> rawHeaders) {
+      this.rawHeaders = rawHeaders;
+      rawHeadersBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<SourceList> platformHeaders;
+    private int platformHeadersBuildStage;
+
+    PatternMatchedCollection<SourceList> getPlatformHeaders() {
+      if (platformHeadersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformHeadersBuildStage == STAGE_UNINITIALIZED) {
+        platformHeadersBuildStage = STAGE_INITIALIZING;
+        this.platformHeaders = Objects.requireNonNull(getPlatformHeadersInitialize(), "platformHeaders");
+        platformHeadersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformHeaders;
+    }
+
+    void setPlatformHeaders(PatternMatchedCollection<SourceList> platformHeaders) {
+      this.platformHeaders = platformHeaders;
+      platformHeadersBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableList<StringWithMacros>> platformCompilerFlags;
+    private int platformCompilerFlagsBuildStage;
+
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformCompilerFlags() {
+      if (platformCompilerFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformCompilerFlagsBuildStage == STAGE_UNINITIALIZED) {
+        platformCompilerFlagsBuildStage = STAGE_INITIALIZING;
+        this.platformCompilerFlags = Objects.requireNonNull(getPlatformCompilerFlagsInitialize(), "platformCompilerFlags");
+        platformCompilerFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformCompilerFlags;
+    }
+
+    void setPlatformCompilerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformCompilerFlags) {
+      this.platformCompilerFlags = platformCompilerFlags;
+      platformCompilerFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableList<StringWithMacros>> platformPreprocessorFlags;
+    private int platformPreprocessorFlagsBuildStage;
+
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformPreprocessorFlags() {
+      if (platformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformPreprocessorFlagsBuildStage == STAGE_UNINITIALIZED) {
+        platformPreprocessorFlagsBuildStage = STAGE_INITIALIZING;
+        this.platformPreprocessorFlags = Objects.requireNonNull(getPlatformPreprocessorFlagsInitialize(), "platformPreprocessorFlags");
+        platformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformPreprocessorFlags;
+    }
+
+    void setPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformPreprocessorFlags) {
+      this.platformPreprocessorFlags = platformPreprocessorFlags;
+      platformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableList<StringWithMacros>> platformLinkerFlags;
+    private int platformLinkerFlagsBuildStage;
+
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformLinkerFlags() {
+      if (platformLinkerFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformLinkerFlagsBuildStage == STAGE_UNINITIALIZED) {
+        platformLinkerFlagsBuildStage = STAGE_INITIALIZING;
+        this.platformLinkerFlags = Objects.requireNonNull(getPlatformLinkerFlagsInitialize(), "platformLinkerFlags");
+        platformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformLinkerFlags;
+    }
+
+    void setPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformLinkerFlags) {
+      this.platformLinkerFlags = platformLinkerFlags;
+      platformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private int platformDepsBuildStage;
+
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+      if (platformDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformDepsBuildStage == STAGE_UNINITIALIZED) {
+        platformDepsBuildStage = STAGE_INITIALIZING;
+        this.platformDeps = Objects.requireNonNull(getPlatformDepsInitialize(), "platformDeps");
+        platformDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformDeps;
+    }
+
+    void setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = platformDeps;
+      platformDepsBuildStage = STAGE_INITIALIZED;
+    }
+    private ImmutableSortedSet<Flavor> defaultFlavors;
+    private int defaultFlavorsBuildStage;
+
+    ImmutableSortedSet<Flavor> getDefaultFlavors() {
+      if (defaultFlavorsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (defaultFlavorsBuildStage == STAGE_UNINITIALIZED) {
+        defaultFlavorsBuildStage = STAGE_INITIALIZING;
+        this.defaultFlavors = Objects.requireNonNull(getDefaultFlavorsInitialize(), "defaultFlavors");
+        defaultFlavorsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.defaultFlavors;
+    }
+    private CxxDeps cxxDeps;
+    private int cxxDepsBuildStage;
+
+    CxxDeps getCxxDeps() {
+      if (cxxDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (cxxDepsBuildStage == STAGE_UNINITIALIZED) {
+        cxxDepsBuildStage = STAGE_INITIALIZING;
+        this.cxxDeps = Objects.requireNonNull(getCxxDepsInitialize(), "cxxDeps");
+        cxxDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.cxxDeps;
+    }
+    private CxxDeps privateCxxDeps;
+    private int privateCxxDepsBuildStage;
+
+    CxxDeps getPrivateCxxDeps() {
+      if (privateCxxDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (privateCxxDepsBuildStage == STAGE_UNINITIALIZED) {
+        privateCxxDepsBuildStage = STAGE_INITIALIZING;
+        this.privateCxxDeps = Objects.requireNonNull(getPrivateCxxDepsInitialize(), "privateCxxDeps");
+        privateCxxDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.privateCxxDeps;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (linkDepsQueryWholeBuildStage == STAGE_INITIALIZING) attributes.add("linkDepsQueryWhole");
+      if (thinLtoBuildStage == STAGE_INITIALIZING) attributes.add("thinLto");
+      if (platformSrcsBuildStage == STAGE_INITIALIZING) attributes.add("platformSrcs");
+      if (headersBuildStage == STAGE_INITIALIZING) attributes.add("headers");
+      if (rawHeadersBuildStage == STAGE_INITIALIZING) attributes.add("rawHeaders");
+      if (platformHeadersBuildStage == STAGE_INITIALIZING) attributes.add("platformHeaders");
+      if (platformCompilerFlagsBuildStage == STAGE_INITIALIZING) attributes.add("platformCompilerFlags");
+      if (platformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) attributes.add("platformPreprocessorFlags");
+      if (platformLinkerFlagsBuildStage == STAGE_INITIALIZING) attributes.add("platformLinkerFlags");
+      if (platformDepsBuildStage == STAGE_INITIALIZING) attributes.add("platformDeps");
+      if (defaultFlavorsBuildStage == STAGE_INITIALIZING) attributes.add("defaultFlavors");
+      if (cxxDepsBuildStage == STAGE_INITIALIZING) attributes.add("cxxDeps");
+      if (privateCxxDepsBuildStage == STAGE_INITIALIZING) attributes.add("privateCxxDeps");
+      return "Cannot build CxxTestDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private boolean getLinkDepsQueryWholeInitialize() {
+    return CxxTestDescription.AbstractCxxTestDescriptionArg.super.getLinkDepsQueryWhole();
+  }
+
+  private boolean getThinLtoInitialize() {
+    return CxxTestDescription.AbstractCxxTestDescriptionArg.super.getThinLto();
+  }
+
+  private PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> getPlatformSrcsInitialize() {
+    return CxxTestDescription.AbstractCxxTestDescriptionArg.super.getPlatformSrcs();
+  }
+
+  private SourceList getHeadersInitialize() {
+    return CxxTestDescription.AbstractCxxTestDescriptionArg.super.getHeaders();
+  }
+
+  private ImmutableSortedSet<SourcePath> getRawHeadersInitialize() {
+    return CxxTestDescription.AbstractCxxTestDescriptionArg.super.getRawHeaders();
+  }
+
+  private PatternMatchedCollection<SourceList> getPlatformHeadersInitialize() {
+    return CxxTestDescription.AbstractCxxTestDescriptionArg.super.getPlatformHeaders();
+  }
+
+  private PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformCompilerFlagsInitialize() {
+    return CxxTestDescription.AbstractCxxTestDescriptionArg.super.getPlatformCompilerFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformPreprocessorFlagsInitialize() {
+    return CxxTestDescription.AbstractCxxTestDescriptionArg.super.getPlatformPreprocessorFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformLinkerFlagsInitialize() {
+    return CxxTestDescription.AbstractCxxTestDescriptionArg.super.getPlatformLinkerFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDepsInitialize() {
+    return CxxTestDescription.AbstractCxxTestDescriptionArg.super.getPlatformDeps();
+  }
+
+  private ImmutableSortedSet<Flavor> getDefaultFlavorsInitialize() {
+    return CxxTestDescription.AbstractCxxTestDescriptionArg.super.getDefaultFlavors();
+  }
+
+  private CxxDeps getCxxDepsInitialize() {
+    return CxxTestDescription.AbstractCxxTestDescriptionArg.super.getCxxDeps();
+  }
+
+  private CxxDeps getPrivateCxxDepsInitialize() {
+    return CxxTestDescription.AbstractCxxTestDescriptionArg.super.getPrivateCxxDeps();
+  }
+
+  /**
+   * @return The value of the {@code framework} attribute
+   */
+  @Override
+  public Optional<CxxTestType> getFramework() {
+    return Optional.ofNullable(framework);
+  }
+
+  /**
+   * @return The value of the {@code env} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnv() {
+    return env;
+  }
+
+  /**
+   * @return The value of the {@code args} attribute
+   */
+  @Override
+  public ImmutableList<String> getArgs() {
+    return args;
+  }
+
+  /**
+   * @return The value of the {@code runTestSeparately} attribute
+   */
+  @Override
+  public Optional<Boolean> getRunTestSeparately() {
+    return Optional.ofNullable(runTestSeparately);
+  }
+
+  /**
+   * @return The value of the {@code useDefaultTestMain} attribute
+   */
+  @Override
+  public Optional<Boolean> getUseDefaultTestMain() {
+    return Optional.ofNullable(useDefaultTestMain);
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Path> getResources() {
+    return resources;
+  }
+
+  /**
+   * @return The value of the {@code additionalCoverageTargets} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getAdditionalCoverageTargets() {
+    return additionalCoverageTargets;
+  }
+
+  /**
+   * @return The value of the {@code linkDepsQueryWhole} attribute
+   */
+  @Override
+  public boolean getLinkDepsQueryWhole() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLinkDepsQueryWhole()
+        : this.linkDepsQueryWhole;
+  }
+
+  /**
+   * @return The value of the {@code linkStyle} attribute
+   */
+  @Override
+  public Optional<Linker.LinkableDepType> getLinkStyle() {
+    return Optional.ofNullable(linkStyle);
+  }
+
+  /**
+   * @return The value of the {@code thinLto} attribute
+   */
+  @Override
+  public boolean getThinLto() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getThinLto()
+        : this.thinLto;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourceWithFlags> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * @return The value of the {@code platformSrcs} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> getPlatformSrcs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformSrcs()
+        : this.platformSrcs;
+  }
+
+  /**
+   * @return The value of the {@code headers} attribute
+   */
+  @Override
+  public SourceList getHeaders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getHeaders()
+        : this.headers;
+  }
+
+  /**
+   * Raw headers are headers which are used as they are (via compilation flags). Buck doesn't copy
+   * them or create symlinks for them. They are public (since managed by compilation flags).
+   * @return a list of raw headers
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getRawHeaders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRawHeaders()
+        : this.rawHeaders;
+  }
+
+  /**
+   * @return The value of the {@code platformHeaders} attribute
+   */
+  @Override
+  public PatternMatchedCollection<SourceList> getPlatformHeaders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformHeaders()
+        : this.platformHeaders;
+  }
+
+  /**
+   * @return The value of the {@code prefixHeader} attribute
+   */
+  @Override
+  public Optional<SourcePath> getPrefixHeader() {
+    return Optional.ofNullable(prefixHeader);
+  }
+
+  /**
+   * @return The value of the {@code precompiledHeader} attribute
+   */
+  @Override
+  public Optional<SourcePath> getPrecompiledHeader() {
+    return Optional.ofNullable(precompiledHeader);
+  }
+
+  /**
+   * @return The value of the {@code compilerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getCompilerFlags() {
+    return compilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code langCompilerFlags} attribute
+   */
+  @Override
+  public ImmutableMap<AbstractCxxSource.Type, ImmutableList<StringWithMacros>> getLangCompilerFlags() {
+    return langCompilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code platformCompilerFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformCompilerFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformCompilerFlags()
+        : this.platformCompilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code preprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getPreprocessorFlags() {
+    return preprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code platformPreprocessorFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformPreprocessorFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformPreprocessorFlags()
+        : this.platformPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code langPreprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableMap<AbstractCxxSource.Type, ImmutableList<StringWithMacros>> getLangPreprocessorFlags() {
+    return langPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code platformLinkerFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformLinkerFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformLinkerFlags()
+        : this.platformLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code platformDeps} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformDeps()
+        : this.platformDeps;
+  }
+
+  /**
+   * @return The value of the {@code headerNamespace} attribute
+   */
+  @Override
+  public Optional<String> getHeaderNamespace() {
+    return Optional.ofNullable(headerNamespace);
+  }
+
+  /**
+   * @return The value of the {@code cxxRuntimeType} attribute
+   */
+  @Override
+  public Optional<Linker.CxxRuntimeType> getCxxRuntimeType() {
+    return Optional.ofNullable(cxxRuntimeType);
+  }
+
+  /**
+   * @return The value of the {@code includeDirs} attribute
+   */
+  @Override
+  public ImmutableList<String> getIncludeDirs() {
+    return includeDirs;
+  }
+
+  /**
+   * @return The value of the {@code defaults} attribute
+   */
+  @Override
+  public ImmutableMap<String, Flavor> getDefaults() {
+    return defaults;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code defaultFlavors} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Flavor> getDefaultFlavors() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDefaultFlavors()
+        : this.defaultFlavors;
+  }
+
+  /**
+   *@return the C/C++ deps this rule builds against. 
+   */
+  @Override
+  public CxxDeps getCxxDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCxxDeps()
+        : this.cxxDeps;
+  }
+
+  /**
+   *@return C/C++ deps which are *not* propagated to dependents. 
+   */
+  @Override
+  public CxxDeps getPrivateCxxDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPrivateCxxDeps()
+        : this.privateCxxDeps;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code defaultPlatform} attribute
+   */
+  @Override
+  public Optional<Flavor> getDefaultPlatform() {
+    return Optional.ofNullable(defaultPlatform);
+  }
+
+  /**
+   * @return The value of the {@code tests} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * @return The value of the {@code frameworks} attribute
+   */
+  @Override
+  public ImmutableSortedSet<FrameworkPath> getFrameworks() {
+    return frameworks;
+  }
+
+  /**
+   * @return The value of the {@code libraries} attribute
+   */
+  @Override
+  public ImmutableSortedSet<FrameworkPath> getLibraries() {
+    return libraries;
+  }
+
+  /**
+   * @return The value of the {@code versionUniverse} attribute
+   */
+  @Override
+  public Optional<String> getVersionUniverse() {
+    return Optional.ofNullable(versionUniverse);
+  }
+
+  /**
+   * @return The value of the {@code depsQuery} attribute
+   */
+  @Override
+  public Optional<Query> getDepsQuery() {
+    return Optional.ofNullable(depsQuery);
+  }
+
+  /**
+   * @return The value of the {@code contacts} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getContacts() {
+    return contacts;
+  }
+
+  /**
+   * @return The value of the {@code testRuleTimeoutMs} attribute
+   */
+  @Override
+  public Optional<Long> getTestRuleTimeoutMs() {
+    return Optional.ofNullable(testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getFramework() framework} attribute.
+   * @param value The value for framework
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withFramework(CxxTestType value) {
+    @Nullable CxxTestType newValue = Objects.requireNonNull(value, "framework");
+    if (this.framework == newValue) return this;
+    return validate(new CxxTestDescriptionArg(
+        newValue,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getFramework() framework} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for framework
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withFramework(Optional<? extends CxxTestType> optional) {
+    @Nullable CxxTestType value = optional.orElse(null);
+    if (Objects.equals(this.framework, value)) return this;
+    return validate(new CxxTestDescriptionArg(
+        value,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getEnv() env} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the env map
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withEnv(Map<String, ? extends String> entries) {
+    if (this.env == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        newValue,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getArgs() args}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withArgs(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        newValue,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getArgs() args}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of args elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withArgs(Iterable<String> elements) {
+    if (this.args == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        newValue,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getRunTestSeparately() runTestSeparately} attribute.
+   * @param value The value for runTestSeparately
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withRunTestSeparately(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.runTestSeparately, newValue)) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        newValue,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getRunTestSeparately() runTestSeparately} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for runTestSeparately
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withRunTestSeparately(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.runTestSeparately, value)) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        value,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getUseDefaultTestMain() useDefaultTestMain} attribute.
+   * @param value The value for useDefaultTestMain
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withUseDefaultTestMain(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.useDefaultTestMain, newValue)) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        newValue,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getUseDefaultTestMain() useDefaultTestMain} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for useDefaultTestMain
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withUseDefaultTestMain(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.useDefaultTestMain, value)) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        value,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getResources() resources}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withResources(Path... elements) {
+    ImmutableSortedSet<Path> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<Path>natural(),
+        Arrays.asList(elements));
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        newValue,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getResources() resources}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of resources elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withResources(Iterable<? extends Path> elements) {
+    if (this.resources == elements) return this;
+    ImmutableSortedSet<Path> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<Path>natural(),
+        elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        newValue,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getAdditionalCoverageTargets() additionalCoverageTargets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withAdditionalCoverageTargets(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        newValue,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getAdditionalCoverageTargets() additionalCoverageTargets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of additionalCoverageTargets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withAdditionalCoverageTargets(Iterable<? extends SourcePath> elements) {
+    if (this.additionalCoverageTargets == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        newValue,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLinkDepsQueryWhole() linkDepsQueryWhole} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for linkDepsQueryWhole
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxTestDescriptionArg withLinkDepsQueryWhole(boolean value) {
+    if (this.linkDepsQueryWhole == value) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        value,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLinkStyle() linkStyle} attribute.
+   * @param value The value for linkStyle
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withLinkStyle(Linker.LinkableDepType value) {
+    @Nullable Linker.LinkableDepType newValue = Objects.requireNonNull(value, "linkStyle");
+    if (this.linkStyle == newValue) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        newValue,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLinkStyle() linkStyle} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for linkStyle
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withLinkStyle(Optional<? extends Linker.LinkableDepType> optional) {
+    @Nullable Linker.LinkableDepType value = optional.orElse(null);
+    if (Objects.equals(this.linkStyle, value)) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        value,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getThinLto() thinLto} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for thinLto
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxTestDescriptionArg withThinLto(boolean value) {
+    if (this.thinLto == value) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        value,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withSrcs(SourceWithFlags... elements) {
+    ImmutableSortedSet<SourceWithFlags> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourceWithFlags>natural(),
+        Arrays.asList(elements));
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        newValue,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withSrcs(Iterable<? extends SourceWithFlags> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSortedSet<SourceWithFlags> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourceWithFlags>natural(),
+        elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        newValue,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformSrcs() platformSrcs} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformSrcs
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxTestDescriptionArg withPlatformSrcs(PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> value) {
+    if (this.platformSrcs == value) return this;
+    PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> newValue = Objects.requireNonNull(value, "platformSrcs");
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        newValue,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getHeaders() headers} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for headers
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxTestDescriptionArg withHeaders(SourceList value) {
+    if (this.headers == value) return this;
+    SourceList newValue = Objects.requireNonNull(value, "headers");
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        newValue,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getRawHeaders() rawHeaders} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for rawHeaders
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxTestDescriptionArg withRawHeaders(ImmutableSortedSet<SourcePath> value) {
+    if (this.rawHeaders == value) return this;
+    ImmutableSortedSet<SourcePath> newValue = Objects.requireNonNull(value, "rawHeaders");
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        newValue,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformHeaders() platformHeaders} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformHeaders
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxTestDescriptionArg withPlatformHeaders(PatternMatchedCollection<SourceList> value) {
+    if (this.platformHeaders == value) return this;
+    PatternMatchedCollection<SourceList> newValue = Objects.requireNonNull(value, "platformHeaders");
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        newValue,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPrefixHeader() prefixHeader} attribute.
+   * @param value The value for prefixHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withPrefixHeader(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "prefixHeader");
+    if (this.prefixHeader == newValue) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        newValue,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPrefixHeader() prefixHeader} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for prefixHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withPrefixHeader(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.prefixHeader == value) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        value,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPrecompiledHeader() precompiledHeader} attribute.
+   * @param value The value for precompiledHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withPrecompiledHeader(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "precompiledHeader");
+    if (this.precompiledHeader == newValue) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        newValue,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPrecompiledHeader() precompiledHeader} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for precompiledHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withPrecompiledHeader(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.precompiledHeader == value) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        value,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getCompilerFlags() compilerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withCompilerFlags(StringWithMacros... elements) {
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        newValue,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getCompilerFlags() compilerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of compilerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+    if (this.compilerFlags == elements) return this;
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        newValue,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLangCompilerFlags() langCompilerFlags} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the langCompilerFlags map
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withLangCompilerFlags(Map<AbstractCxxSource.Type, ? extends ImmutableList<StringWithMacros>> entries) {
+    if (this.langCompilerFlags == entries) return this;
+    ImmutableMap<AbstractCxxSource.Type, ImmutableList<StringWithMacros>> newValue = Maps.immutableEnumMap(entries);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        newValue,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformCompilerFlags() platformCompilerFlags} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformCompilerFlags
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxTestDescriptionArg withPlatformCompilerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> value) {
+    if (this.platformCompilerFlags == value) return this;
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> newValue = Objects.requireNonNull(value, "platformCompilerFlags");
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        newValue,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPreprocessorFlags() preprocessorFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withPreprocessorFlags(StringWithMacros... elements) {
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        newValue,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPreprocessorFlags() preprocessorFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of preprocessorFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withPreprocessorFlags(Iterable<? extends StringWithMacros> elements) {
+    if (this.preprocessorFlags == elements) return this;
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        newValue,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformPreprocessorFlags() platformPreprocessorFlags} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformPreprocessorFlags
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxTestDescriptionArg withPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> value) {
+    if (this.platformPreprocessorFlags == value) return this;
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> newValue = Objects.requireNonNull(value, "platformPreprocessorFlags");
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        newValue,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLangPreprocessorFlags() langPreprocessorFlags} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the langPreprocessorFlags map
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withLangPreprocessorFlags(Map<AbstractCxxSource.Type, ? extends ImmutableList<StringWithMacros>> entries) {
+    if (this.langPreprocessorFlags == entries) return this;
+    ImmutableMap<AbstractCxxSource.Type, ImmutableList<StringWithMacros>> newValue = Maps.immutableEnumMap(entries);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        newValue,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLinkerFlags() linkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withLinkerFlags(StringWithMacros... elements) {
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        newValue,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLinkerFlags() linkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of linkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+    if (this.linkerFlags == elements) return this;
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        newValue,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformLinkerFlags() platformLinkerFlags} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformLinkerFlags
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxTestDescriptionArg withPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> value) {
+    if (this.platformLinkerFlags == value) return this;
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> newValue = Objects.requireNonNull(value, "platformLinkerFlags");
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        newValue,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformDeps() platformDeps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformDeps
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxTestDescriptionArg withPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> value) {
+    if (this.platformDeps == value) return this;
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> newValue = Objects.requireNonNull(value, "platformDeps");
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        newValue,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getHeaderNamespace() headerNamespace} attribute.
+   * @param value The value for headerNamespace
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withHeaderNamespace(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "headerNamespace");
+    if (Objects.equals(this.headerNamespace, newValue)) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        newValue,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getHeaderNamespace() headerNamespace} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for headerNamespace
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withHeaderNamespace(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.headerNamespace, value)) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        value,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getCxxRuntimeType() cxxRuntimeType} attribute.
+   * @param value The value for cxxRuntimeType
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withCxxRuntimeType(Linker.CxxRuntimeType value) {
+    @Nullable Linker.CxxRuntimeType newValue = Objects.requireNonNull(value, "cxxRuntimeType");
+    if (this.cxxRuntimeType == newValue) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        newValue,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getCxxRuntimeType() cxxRuntimeType} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cxxRuntimeType
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withCxxRuntimeType(Optional<? extends Linker.CxxRuntimeType> optional) {
+    @Nullable Linker.CxxRuntimeType value = optional.orElse(null);
+    if (Objects.equals(this.cxxRuntimeType, value)) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        value,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getIncludeDirs() includeDirs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withIncludeDirs(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        newValue,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getIncludeDirs() includeDirs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of includeDirs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withIncludeDirs(Iterable<String> elements) {
+    if (this.includeDirs == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        newValue,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDefaults() defaults} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the defaults map
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withDefaults(Map<String, ? extends Flavor> entries) {
+    if (this.defaults == entries) return this;
+    ImmutableMap<String, Flavor> newValue = ImmutableMap.copyOf(entries);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        newValue,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        newValue,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        newValue,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        newValue,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        newValue,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxTestDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        newValue,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        newValue,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDefaultPlatform() defaultPlatform} attribute.
+   * @param value The value for defaultPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withDefaultPlatform(Flavor value) {
+    @Nullable Flavor newValue = Objects.requireNonNull(value, "defaultPlatform");
+    if (this.defaultPlatform == newValue) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        newValue,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDefaultPlatform() defaultPlatform} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for defaultPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withDefaultPlatform(Optional<? extends Flavor> optional) {
+    @Nullable Flavor value = optional.orElse(null);
+    if (this.defaultPlatform == value) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        value,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getTests() tests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        newValue,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getTests() tests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of tests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withTests(Iterable<? extends BuildTarget> elements) {
+    if (this.tests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        newValue,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getFrameworks() frameworks}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withFrameworks(FrameworkPath... elements) {
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        Arrays.asList(elements));
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        newValue,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getFrameworks() frameworks}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of frameworks elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withFrameworks(Iterable<? extends FrameworkPath> elements) {
+    if (this.frameworks == elements) return this;
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        newValue,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLibraries() libraries}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withLibraries(FrameworkPath... elements) {
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        Arrays.asList(elements));
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        newValue,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLibraries() libraries}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of libraries elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withLibraries(Iterable<? extends FrameworkPath> elements) {
+    if (this.libraries == elements) return this;
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        newValue,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getVersionUniverse() versionUniverse} attribute.
+   * @param value The value for versionUniverse
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withVersionUniverse(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "versionUniverse");
+    if (Objects.equals(this.versionUniverse, newValue)) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        newValue,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getVersionUniverse() versionUniverse} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for versionUniverse
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withVersionUniverse(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.versionUniverse, value)) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        value,
+        this.depsQuery,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDepsQuery() depsQuery} attribute.
+   * @param value The value for depsQuery
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withDepsQuery(Query value) {
+    @Nullable Query newValue = Objects.requireNonNull(value, "depsQuery");
+    if (this.depsQuery == newValue) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        newValue,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDepsQuery() depsQuery} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for depsQuery
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withDepsQuery(Optional<? extends Query> optional) {
+    @Nullable Query value = optional.orElse(null);
+    if (this.depsQuery == value) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        value,
+        this.contacts,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getContacts() contacts}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withContacts(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        newValue,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getContacts() contacts}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of contacts elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withContacts(Iterable<String> elements) {
+    if (this.contacts == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        newValue,
+        this.testRuleTimeoutMs));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} attribute.
+   * @param value The value for testRuleTimeoutMs
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withTestRuleTimeoutMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.testRuleTimeoutMs, newValue)) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        newValue));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for testRuleTimeoutMs
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxTestDescriptionArg withTestRuleTimeoutMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.testRuleTimeoutMs, value)) return this;
+    return validate(new CxxTestDescriptionArg(
+        this.framework,
+        this.env,
+        this.args,
+        this.runTestSeparately,
+        this.useDefaultTestMain,
+        this.resources,
+        this.additionalCoverageTargets,
+        this.linkDepsQueryWhole,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.versionUniverse,
+        this.depsQuery,
+        this.contacts,
+        value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxTestDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxTestDescriptionArg
+        && equalTo((CxxTestDescriptionArg) another);
+  }
+
+  private boolean equalTo(CxxTestDescriptionArg another) {
+    return Objects.equals(framework, another.framework)
+        && env.equals(another.env)
+        && args.equals(another.args)
+        && Objects.equals(runTestSeparately, another.runTestSeparately)
+        && Objects.equals(useDefaultTestMain, another.useDefaultTestMain)
+        && resources.equals(another.resources)
+        && additionalCoverageTargets.equals(another.additionalCoverageTargets)
+        && linkDepsQueryWhole == another.linkDepsQueryWhole
+        && Objects.equals(linkStyle, another.linkStyle)
+        && thinLto == another.thinLto
+        && srcs.equals(another.srcs)
+        && platformSrcs.equals(another.platformSrcs)
+        && headers.equals(another.headers)
+        && rawHeaders.equals(another.rawHeaders)
+        && platformHeaders.equals(another.platformHeaders)
+        && Objects.equals(prefixHeader, another.prefixHeader)
+        && Objects.equals(precompiledHeader, another.precompiledHeader)
+        && compilerFlags.equals(another.compilerFlags)
+        && langCompilerFlags.equals(another.langCompilerFlags)
+        && platformCompilerFlags.equals(another.platformCompilerFlags)
+        && preprocessorFlags.equals(another.preprocessorFlags)
+        && platformPreprocessorFlags.equals(another.platformPreprocessorFlags)
+        && langPreprocessorFlags.equals(another.langPreprocessorFlags)
+        && linkerFlags.equals(another.linkerFlags)
+        && platformLinkerFlags.equals(another.platformLinkerFlags)
+        && platformDeps.equals(another.platformDeps)
+        && Objects.equals(headerNamespace, another.headerNamespace)
+        && Objects.equals(cxxRuntimeType, another.cxxRuntimeType)
+        && includeDirs.equals(another.includeDirs)
+        && defaults.equals(another.defaults)
+        && defaultFlavors.equals(another.defaultFlavors)
+        && cxxDeps.equals(another.cxxDeps)
+        && privateCxxDeps.equals(another.privateCxxDeps)
+        && labels.equals(another.labels)
+        && licenses.equals(another.licenses)
+        && name.equals(another.name)
+        && deps.equals(another.deps)
+        && Objects.equals(defaultPlatform, another.defaultPlatform)
+        && tests.equals(another.tests)
+        && frameworks.equals(another.frameworks)
+        && libraries.equals(another.libraries)
+        && Objects.equals(versionUniverse, another.versionUniverse)
+        && Objects.equals(depsQuery, another.depsQuery)
+        && contacts.equals(another.contacts)
+        && Objects.equals(testRuleTimeoutMs, another.testRuleTimeoutMs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code framework}, {@code env}, {@code args}, {@code runTestSeparately}, {@code useDefaultTestMain}, {@code resources}, {@code additionalCoverageTargets}, {@code linkDepsQueryWhole}, {@code linkStyle}, {@code thinLto}, {@code srcs}, {@code platformSrcs}, {@code headers}, {@code rawHeaders}, {@code platformHeaders}, {@code prefixHeader}, {@code precompiledHeader}, {@code compilerFlags}, {@code langCompilerFlags}, {@code platformCompilerFlags}, {@code preprocessorFlags}, {@code platformPreprocessorFlags}, {@code langPreprocessorFlags}, {@code linkerFlags}, {@code platformLinkerFlags}, {@code platformDeps}, {@code headerNamespace}, {@code cxxRuntimeType}, {@code includeDirs}, {@code defaults}, {@code defaultFlavors}, {@code cxxDeps}, {@code privateCxxDeps}, {@code labels}, {@code licenses}, {@code name}, {@code deps}, {@code defaultPlatform}, {@code tests}, {@code frameworks}, {@code libraries}, {@code versionUniverse}, {@code depsQuery}, {@code contacts}, {@code testRuleTimeoutMs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(framework);
+    h += (h << 5) + env.hashCode();
+    h += (h << 5) + args.hashCode();
+    h += (h << 5) + Objects.hashCode(runTestSeparately);
+    h += (h << 5) + Objects.hashCode(useDefaultTestMain);
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + additionalCoverageTargets.hashCode();
+    h += (h << 5) + Booleans.hashCode(linkDepsQueryWhole);
+    h += (h << 5) + Objects.hashCode(linkStyle);
+    h += (h << 5) + Booleans.hashCode(thinLto);
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + platformSrcs.hashCode();
+    h += (h << 5) + headers.hashCode();
+    h += (h << 5) + rawHeaders.hashCode();
+    h += (h << 5) + platformHeaders.hashCode();
+    h += (h << 5) + Objects.hashCode(prefixHeader);
+    h += (h << 5) + Objects.hashCode(precompiledHeader);
+    h += (h << 5) + compilerFlags.hashCode();
+    h += (h << 5) + langCompilerFlags.hashCode();
+    h += (h << 5) + platformCompilerFlags.hashCode();
+    h += (h << 5) + preprocessorFlags.hashCode();
+    h += (h << 5) + platformPreprocessorFlags.hashCode();
+    h += (h << 5) + langPreprocessorFlags.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    h += (h << 5) + platformLinkerFlags.hashCode();
+    h += (h << 5) + platformDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(headerNamespace);
+    h += (h << 5) + Objects.hashCode(cxxRuntimeType);
+    h += (h << 5) + includeDirs.hashCode();
+    h += (h << 5) + defaults.hashCode();
+    h += (h << 5) + defaultFlavors.hashCode();
+    h += (h << 5) + cxxDeps.hashCode();
+    h += (h << 5) + privateCxxDeps.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultPlatform);
+    h += (h << 5) + tests.hashCode();
+    h += (h << 5) + frameworks.hashCode();
+    h += (h << 5) + libraries.hashCode();
+    h += (h << 5) + Objects.hashCode(versionUniverse);
+    h += (h << 5) + Objects.hashCode(depsQuery);
+    h += (h << 5) + contacts.hashCode();
+    h += (h << 5) + Objects.hashCode(testRuleTimeoutMs);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxTestDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxTestDescriptionArg")
+        .omitNullValues()
+        .add("framework", framework)
+        .add("env", env)
+        .add("args", args)
+        .add("runTestSeparately", runTestSeparately)
+        .add("useDefaultTestMain", useDefaultTestMain)
+        .add("resources", resources)
+        .add("additionalCoverageTargets", additionalCoverageTargets)
+        .add("linkDepsQueryWhole", linkDepsQueryWhole)
+        .add("linkStyle", linkStyle)
+        .add("thinLto", thinLto)
+        .add("srcs", srcs)
+        .add("platformSrcs", platformSrcs)
+        .add("headers", headers)
+        .add("rawHeaders", rawHeaders)
+        .add("platformHeaders", platformHeaders)
+        .add("prefixHeader", prefixHeader)
+        .add("precompiledHeader", precompiledHeader)
+        .add("compilerFlags", compilerFlags)
+        .add("langCompilerFlags", langCompilerFlags)
+        .add("platformCompilerFlags", platformCompilerFlags)
+        .add("preprocessorFlags", preprocessorFlags)
+        .add("platformPreprocessorFlags", platformPreprocessorFlags)
+        .add("langPreprocessorFlags", langPreprocessorFlags)
+        .add("linkerFlags", linkerFlags)
+        .add("platformLinkerFlags", platformLinkerFlags)
+        .add("platformDeps", platformDeps)
+        .add("headerNamespace", headerNamespace)
+        .add("cxxRuntimeType", cxxRuntimeType)
+        .add("includeDirs", includeDirs)
+        .add("defaults", defaults)
+        .add("defaultFlavors", defaultFlavors)
+        .add("cxxDeps", cxxDeps)
+        .add("privateCxxDeps", privateCxxDeps)
+        .add("labels", labels)
+        .add("licenses", licenses)
+        .add("name", name)
+        .add("deps", deps)
+        .add("defaultPlatform", defaultPlatform)
+        .add("tests", tests)
+        .add("frameworks", frameworks)
+        .add("libraries", libraries)
+        .add("versionUniverse", versionUniverse)
+        .add("depsQuery", depsQuery)
+        .add("contacts", contacts)
+        .add("testRuleTimeoutMs", testRuleTimeoutMs)
+        .toString();
+  }
+
+
+  private static CxxTestDescriptionArg validate(CxxTestDescriptionArg instance) {
+    instance.checkHeadersUsage();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link CxxTestDescription.AbstractCxxTestDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxTestDescriptionArg instance
+   */
+  static CxxTestDescriptionArg copyOf(CxxTestDescription.AbstractCxxTestDescriptionArg instance) {
+    if (instance instanceof CxxTestDescriptionArg) {
+      return (CxxTestDescriptionArg) instance;
+    }
+    return CxxTestDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CxxTestDescriptionArg CxxTestDescriptionArg}.
+   * @return A new CxxTestDescriptionArg builder
+   */
+  public static CxxTestDescriptionArg.Builder builder() {
+    return new CxxTestDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxTestDescriptionArg CxxTestDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_LINK_DEPS_QUERY_WHOLE = 0x1L;
+    private static final long OPT_BIT_THIN_LTO = 0x2L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable CxxTestType framework;
+    private ImmutableMap.Builder<String, String> env = ImmutableMap.builder();
+    private ImmutableList.Builder<String> args = ImmutableList.builder();
+    private @Nullable Boolean runTestSeparately;
+    private @Nullable Boolean useDefaultTestMain;
+    private ImmutableSortedSet.Builder<Path> resources = ImmutableSortedSet.naturalOrder();
+    private ImmutableSet.Builder<SourcePath> additionalCoverageTargets = ImmutableSet.builder();
+    private boolean linkDepsQueryWhole;
+    private @Nullable Linker.LinkableDepType linkStyle;
+    private boolean thinLto;
+    private ImmutableSortedSet.Builder<SourceWithFlags> srcs = ImmutableSortedSet.naturalOrder();
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> platformSrcs;
+    private @Nullable SourceList headers;
+    private @Nullable ImmutableSortedSet<SourcePath> rawHeaders;
+    private @Nullable PatternMatchedCollection<SourceList> platformHeaders;
+    private @Nullable SourcePath prefixHeader;
+    private @Nullable SourcePath precompiledHeader;
+    private ImmutableList.Builder<StringWithMacros> compilerFlags = ImmutableList.builder();
+    private ImmutableMap.Builder<AbstractCxxSource.Type, ImmutableList<StringWithMacros>> langCompilerFlags = ImmutableMap.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<StringWithMacros>> platformCompilerFlags;
+    private ImmutableList.Builder<StringWithMacros> preprocessorFlags = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<StringWithMacros>> platformPreprocessorFlags;
+    private ImmutableMap.Builder<AbstractCxxSource.Type, ImmutableList<StringWithMacros>> langPreprocessorFlags = ImmutableMap.builder();
+    private ImmutableList.Builder<StringWithMacros> linkerFlags = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<StringWithMacros>> platformLinkerFlags;
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private @Nullable String headerNamespace;
+    private @Nullable Linker.CxxRuntimeType cxxRuntimeType;
+    private ImmutableList.Builder<String> includeDirs = ImmutableList.builder();
+    private ImmutableMap.Builder<String, Flavor> defaults = ImmutableMap.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private @Nullable String name;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private @Nullable Flavor defaultPlatform;
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<FrameworkPath> frameworks = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<FrameworkPath> libraries = ImmutableSortedSet.naturalOrder();
+    private @Nullable String versionUniverse;
+    private @Nullable Query depsQuery;
+    private ImmutableSortedSet.Builder<String> contacts = ImmutableSortedSet.naturalOrder();
+    private @Nullable Long testRuleTimeoutMs;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasContacts} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasContacts instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDefaultPlatform} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDefaultPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTestTimeout} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTestTimeout instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxTestDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxTestDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxTestDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(CxxTestDescription.AbstractCxxTestDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.CxxConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.CxxBinaryDescription.CommonArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxBinaryDescription.CommonArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.toolchain.HasSystemFrameworkAndLibraries} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasSystemFrameworkAndLibraries instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.LinkableCxxConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(LinkableCxxConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDepsQuery} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDepsQuery instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.versions.HasVersionUniverse} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasVersionUniverse instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasContacts) {
+        HasContacts instance = (HasContacts) object;
+        addAllContacts(instance.getContacts());
+      }
+      if (object instanceof HasDefaultPlatform) {
+        HasDefaultPlatform instance = (HasDefaultPlatform) object;
+        Optional<Flavor> defaultPlatformOptional = instance.getDefaultPlatform();
+        if (defaultPlatformOptional.isPresent()) {
+          setDefaultPlatform(defaultPlatformOptional);
+        }
+      }
+      if (object instanceof HasTestTimeout) {
+        HasTestTimeout instance = (HasTestTimeout) object;
+        Optional<Long> testRuleTimeoutMsOptional = instance.getTestRuleTimeoutMs();
+        if (testRuleTimeoutMsOptional.isPresent()) {
+          setTestRuleTimeoutMs(testRuleTimeoutMsOptional);
+        }
+      }
+      if (object instanceof CxxTestDescription.AbstractCxxTestDescriptionArg) {
+        CxxTestDescription.AbstractCxxTestDescriptionArg instance = (CxxTestDescription.AbstractCxxTestDescriptionArg) object;
+        addAllArgs(instance.getArgs());
+        Optional<Boolean> useDefaultTestMainOptional = instance.getUseDefaultTestMain();
+        if (useDefaultTestMainOptional.isPresent()) {
+          setUseDefaultTestMain(useDefaultTestMainOptional);
+        }
+        Optional<CxxTestType> frameworkOptional = instance.getFramework();
+        if (frameworkOptional.isPresent()) {
+          setFramework(frameworkOptional);
+        }
+        addAllResources(instance.getResources());
+        putAllEnv(instance.getEnv());
+        addAllAdditionalCoverageTargets(instance.getAdditionalCoverageTargets());
+        Optional<Boolean> runTestSeparatelyOptional = instance.getRunTestSeparately();
+        if (runTestSeparatelyOptional.isPresent()) {
+          setRunTestSeparately(runTestSeparatelyOptional);
+        }
+      }
+      if (object instanceof CxxConstructorArg) {
+        CxxConstructorArg instance = (CxxConstructorArg) object;
+        setPlatformPreprocessorFlags(instance.getPlatformPreprocessorFlags());
+        setHeaders(instance.getHeaders());
+        addAllCompilerFlags(instance.getCompilerFlags());
+        setPlatformSrcs(instance.getPlatformSrcs());
+        setPlatformDeps(instance.getPlatformDeps());
+        addAllLinkerFlags(instance.getLinkerFlags());
+        setPlatformCompilerFlags(instance.getPlatformCompilerFlags());
+        addAllPreprocessorFlags(instance.getPreprocessorFlags());
+        setRawHeaders(instance.getRawHeaders());
+        Optional<SourcePath> prefixHeaderOptional = instance.getPrefixHeader();
+        if (prefixHeaderOptional.isPresent()) {
+          setPrefixHeader(prefixHeaderOptional);
+        }
+        addAllIncludeDirs(instance.getIncludeDirs());
+        Optional<Linker.CxxRuntimeType> cxxRuntimeTypeOptional = instance.getCxxRuntimeType();
+        if (cxxRuntimeTypeOptional.isPresent()) {
+          setCxxRuntimeType(cxxRuntimeTypeOptional);
+        }
+        putAllDefaults(instance.getDefaults());
+        putAllLangPreprocessorFlags(instance.getLangPreprocessorFlags());
+        setPlatformHeaders(instance.getPlatformHeaders());
+        Optional<SourcePath> precompiledHeaderOptional = instance.getPrecompiledHeader();
+        if (precompiledHeaderOptional.isPresent()) {
+          setPrecompiledHeader(precompiledHeaderOptional);
+        }
+        putAllLangCompilerFlags(instance.getLangCompilerFlags());
+        addAllSrcs(instance.getSrcs());
+        Optional<String> headerNamespaceOptional = instance.getHeaderNamespace();
+        if (headerNamespaceOptional.isPresent()) {
+          setHeaderNamespace(headerNamespaceOptional);
+        }
+        setPlatformLinkerFlags(instance.getPlatformLinkerFlags());
+      }
+      if (object instanceof CxxBinaryDescription.CommonArg) {
+        CxxBinaryDescription.CommonArg instance = (CxxBinaryDescription.CommonArg) object;
+        setLinkDepsQueryWhole(instance.getLinkDepsQueryWhole());
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof HasSystemFrameworkAndLibraries) {
+        HasSystemFrameworkAndLibraries instance = (HasSystemFrameworkAndLibraries) object;
+        addAllLibraries(instance.getLibraries());
+        addAllFrameworks(instance.getFrameworks());
+      }
+      if (object instanceof LinkableCxxConstructorArg) {
+        LinkableCxxConstructorArg instance = (LinkableCxxConstructorArg) object;
+        Optional<Linker.LinkableDepType> linkStyleOptional = instance.getLinkStyle();
+        if (linkStyleOptional.isPresent()) {
+          setLinkStyle(linkStyleOptional);
+        }
+        setThinLto(instance.getThinLto());
+      }
+      if (object instanceof HasDepsQuery) {
+        HasDepsQuery instance = (HasDepsQuery) object;
+        Optional<Query> depsQueryOptional = instance.getDepsQuery();
+        if (depsQueryOptional.isPresent()) {
+          setDepsQuery(depsQueryOptional);
+        }
+      }
+      if (object instanceof HasVersionUniverse) {
+        HasVersionUniverse instance = (HasVersionUniverse) object;
+        Optional<String> versionUniverseOptional = instance.getVersionUniverse();
+        if (versionUniverseOptional.isPresent()) {
+          setVersionUniverse(versionUniverseOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getFramework() framework} to framework.
+     * @param framework The value for framework
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFramework(CxxTestType framework) {
+      this.framework = Objects.requireNonNull(framework, "framework");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getFramework() framework} to framework.
+     * @param framework The value for framework
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFramework(Optional<? extends CxxTestType> framework) {
+      this.framework = framework.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getEnv() env} map.
+     * @param key The key in the env map
+     * @param value The associated value in the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnv(String key, String value) {
+      this.env.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnv(Map.Entry<String, ? extends String> entry) {
+      this.env.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param env The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnv(Map<String, ? extends String> env) {
+      this.env = ImmutableMap.builder();
+      return putAllEnv(env);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param env The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllEnv(Map<String, ? extends String> env) {
+      this.env.putAll(env);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getArgs() args} list.
+     * @param element A args element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addArgs(String element) {
+      this.args.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getArgs() args} list.
+     * @param elements An array of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addArgs(String... elements) {
+      this.args.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getArgs() args} list.
+     * @param elements An iterable of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setArgs(Iterable<String> elements) {
+      this.args = ImmutableList.builder();
+      return addAllArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getArgs() args} list.
+     * @param elements An iterable of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllArgs(Iterable<String> elements) {
+      this.args.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getRunTestSeparately() runTestSeparately} to runTestSeparately.
+     * @param runTestSeparately The value for runTestSeparately
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRunTestSeparately(boolean runTestSeparately) {
+      this.runTestSeparately = runTestSeparately;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getRunTestSeparately() runTestSeparately} to runTestSeparately.
+     * @param runTestSeparately The value for runTestSeparately
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRunTestSeparately(Optional<Boolean> runTestSeparately) {
+      this.runTestSeparately = runTestSeparately.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getUseDefaultTestMain() useDefaultTestMain} to useDefaultTestMain.
+     * @param useDefaultTestMain The value for useDefaultTestMain
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUseDefaultTestMain(boolean useDefaultTestMain) {
+      this.useDefaultTestMain = useDefaultTestMain;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getUseDefaultTestMain() useDefaultTestMain} to useDefaultTestMain.
+     * @param useDefaultTestMain The value for useDefaultTestMain
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUseDefaultTestMain(Optional<Boolean> useDefaultTestMain) {
+      this.useDefaultTestMain = useDefaultTestMain.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getResources() resources} sortedSet.
+     * @param element A resources element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addResources(Path element) {
+      this.resources.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An array of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addResources(Path... elements) {
+      this.resources.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An iterable of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResources(Iterable<? extends Path> elements) {
+      this.resources = ImmutableSortedSet.naturalOrder();
+      return addAllResources(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An iterable of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllResources(Iterable<? extends Path> elements) {
+      this.resources.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getAdditionalCoverageTargets() additionalCoverageTargets} set.
+     * @param element A additionalCoverageTargets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAdditionalCoverageTargets(SourcePath element) {
+      this.additionalCoverageTargets.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getAdditionalCoverageTargets() additionalCoverageTargets} set.
+     * @param elements An array of additionalCoverageTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAdditionalCoverageTargets(SourcePath... elements) {
+      this.additionalCoverageTargets.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getAdditionalCoverageTargets() additionalCoverageTargets} set.
+     * @param elements An iterable of additionalCoverageTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAdditionalCoverageTargets(Iterable<? extends SourcePath> elements) {
+      this.additionalCoverageTargets = ImmutableSet.builder();
+      return addAllAdditionalCoverageTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getAdditionalCoverageTargets() additionalCoverageTargets} set.
+     * @param elements An iterable of additionalCoverageTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllAdditionalCoverageTargets(Iterable<? extends SourcePath> elements) {
+      this.additionalCoverageTargets.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLinkDepsQueryWhole() linkDepsQueryWhole} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLinkDepsQueryWhole() linkDepsQueryWhole}.</em>
+     * @param linkDepsQueryWhole The value for linkDepsQueryWhole 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkDepsQueryWhole(boolean linkDepsQueryWhole) {
+      this.linkDepsQueryWhole = linkDepsQueryWhole;
+      optBits |= OPT_BIT_LINK_DEPS_QUERY_WHOLE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLinkStyle() linkStyle} to linkStyle.
+     * @param linkStyle The value for linkStyle
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLinkStyle(Linker.LinkableDepType linkStyle) {
+      this.linkStyle = Objects.requireNonNull(linkStyle, "linkStyle");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLinkStyle() linkStyle} to linkStyle.
+     * @param linkStyle The value for linkStyle
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkStyle(Optional<? extends Linker.LinkableDepType> linkStyle) {
+      this.linkStyle = linkStyle.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getThinLto() thinLto} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getThinLto() thinLto}.</em>
+     * @param thinLto The value for thinLto 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setThinLto(boolean thinLto) {
+      this.thinLto = thinLto;
+      optBits |= OPT_BIT_THIN_LTO;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourceWithFlags element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourceWithFlags... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends SourceWithFlags> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends SourceWithFlags> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformSrcs() platformSrcs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformSrcs() platformSrcs}.</em>
+     * @param platformSrcs The value for platformSrcs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformSrcs(PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> platformSrcs) {
+      this.platformSrcs = Objects.requireNonNull(platformSrcs, "platformSrcs");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getHeaders() headers} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getHeaders() headers}.</em>
+     * @param headers The value for headers 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHeaders(SourceList headers) {
+      this.headers = Objects.requireNonNull(headers, "headers");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getRawHeaders() rawHeaders} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getRawHeaders() rawHeaders}.</em>
+     * @param rawHeaders The value for rawHeaders 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRawHeaders(ImmutableSortedSet<SourcePath> rawHeaders) {
+      this.rawHeaders = Objects.requireNonNull(rawHeaders, "rawHeaders");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformHeaders() platformHeaders} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformHeaders() platformHeaders}.</em>
+     * @param platformHeaders The value for platformHeaders 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformHeaders(PatternMatchedCollection<SourceList> platformHeaders) {
+      this.platformHeaders = Objects.requireNonNull(platformHeaders, "platformHeaders");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPrefixHeader() prefixHeader} to prefixHeader.
+     * @param prefixHeader The value for prefixHeader
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPrefixHeader(SourcePath prefixHeader) {
+      this.prefixHeader = Objects.requireNonNull(prefixHeader, "prefixHeader");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPrefixHeader() prefixHeader} to prefixHeader.
+     * @param prefixHeader The value for prefixHeader
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPrefixHeader(Optional<? extends SourcePath> prefixHeader) {
+      this.prefixHeader = prefixHeader.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPrecompiledHeader() precompiledHeader} to precompiledHeader.
+     * @param precompiledHeader The value for precompiledHeader
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPrecompiledHeader(SourcePath precompiledHeader) {
+      this.precompiledHeader = Objects.requireNonNull(precompiledHeader, "precompiledHeader");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPrecompiledHeader() precompiledHeader} to precompiledHeader.
+     * @param precompiledHeader The value for precompiledHeader
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPrecompiledHeader(Optional<? extends SourcePath> precompiledHeader) {
+      this.precompiledHeader = precompiledHeader.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param element A compilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(StringWithMacros element) {
+      this.compilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An array of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(StringWithMacros... elements) {
+      this.compilerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.compilerFlags = ImmutableList.builder();
+      return addAllCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.compilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLangCompilerFlags() langCompilerFlags} map.
+     * @param key The key in the langCompilerFlags map
+     * @param value The associated value in the langCompilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putLangCompilerFlags(AbstractCxxSource.Type key, ImmutableList<StringWithMacros> value) {
+      this.langCompilerFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLangCompilerFlags() langCompilerFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putLangCompilerFlags(Map.Entry<AbstractCxxSource.Type, ? extends ImmutableList<StringWithMacros>> entry) {
+      this.langCompilerFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLangCompilerFlags() langCompilerFlags} map. Nulls are not permitted
+     * @param langCompilerFlags The entries that will be added to the langCompilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLangCompilerFlags(Map<AbstractCxxSource.Type, ? extends ImmutableList<StringWithMacros>> langCompilerFlags) {
+      this.langCompilerFlags = ImmutableMap.builder();
+      return putAllLangCompilerFlags(langCompilerFlags);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLangCompilerFlags() langCompilerFlags} map. Nulls are not permitted
+     * @param langCompilerFlags The entries that will be added to the langCompilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllLangCompilerFlags(Map<AbstractCxxSource.Type, ? extends ImmutableList<StringWithMacros>> langCompilerFlags) {
+      this.langCompilerFlags.putAll(langCompilerFlags);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformCompilerFlags() platformCompilerFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformCompilerFlags() platformCompilerFlags}.</em>
+     * @param platformCompilerFlags The value for platformCompilerFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformCompilerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformCompilerFlags) {
+      this.platformCompilerFlags = Objects.requireNonNull(platformCompilerFlags, "platformCompilerFlags");
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPreprocessorFlags() preprocessorFlags} list.
+     * @param element A preprocessorFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPreprocessorFlags(StringWithMacros element) {
+      this.preprocessorFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPreprocessorFlags() preprocessorFlags} list.
+     * @param elements An array of preprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPreprocessorFlags(StringWithMacros... elements) {
+      this.preprocessorFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPreprocessorFlags() preprocessorFlags} list.
+     * @param elements An iterable of preprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPreprocessorFlags(Iterable<? extends StringWithMacros> elements) {
+      this.preprocessorFlags = ImmutableList.builder();
+      return addAllPreprocessorFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPreprocessorFlags() preprocessorFlags} list.
+     * @param elements An iterable of preprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPreprocessorFlags(Iterable<? extends StringWithMacros> elements) {
+      this.preprocessorFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformPreprocessorFlags() platformPreprocessorFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformPreprocessorFlags() platformPreprocessorFlags}.</em>
+     * @param platformPreprocessorFlags The value for platformPreprocessorFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformPreprocessorFlags) {
+      this.platformPreprocessorFlags = Objects.requireNonNull(platformPreprocessorFlags, "platformPreprocessorFlags");
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLangPreprocessorFlags() langPreprocessorFlags} map.
+     * @param key The key in the langPreprocessorFlags map
+     * @param value The associated value in the langPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putLangPreprocessorFlags(AbstractCxxSource.Type key, ImmutableList<StringWithMacros> value) {
+      this.langPreprocessorFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLangPreprocessorFlags() langPreprocessorFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putLangPreprocessorFlags(Map.Entry<AbstractCxxSource.Type, ? extends ImmutableList<StringWithMacros>> entry) {
+      this.langPreprocessorFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLangPreprocessorFlags() langPreprocessorFlags} map. Nulls are not permitted
+     * @param langPreprocessorFlags The entries that will be added to the langPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLangPreprocessorFlags(Map<AbstractCxxSource.Type, ? extends ImmutableList<StringWithMacros>> langPreprocessorFlags) {
+      this.langPreprocessorFlags = ImmutableMap.builder();
+      return putAllLangPreprocessorFlags(langPreprocessorFlags);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLangPreprocessorFlags() langPreprocessorFlags} map. Nulls are not permitted
+     * @param langPreprocessorFlags The entries that will be added to the langPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllLangPreprocessorFlags(Map<AbstractCxxSource.Type, ? extends ImmutableList<StringWithMacros>> langPreprocessorFlags) {
+      this.langPreprocessorFlags.putAll(langPreprocessorFlags);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(StringWithMacros element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(StringWithMacros... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformLinkerFlags() platformLinkerFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformLinkerFlags() platformLinkerFlags}.</em>
+     * @param platformLinkerFlags The value for platformLinkerFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformLinkerFlags) {
+      this.platformLinkerFlags = Objects.requireNonNull(platformLinkerFlags, "platformLinkerFlags");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformDeps() platformDeps} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getPlatformDeps() platformDeps}.</em>
+     * @param platformDeps The value for platformDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = Objects.requireNonNull(platformDeps, "platformDeps");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getHeaderNamespace() headerNamespace} to headerNamespace.
+     * @param headerNamespace The value for headerNamespace
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setHeaderNamespace(String headerNamespace) {
+      this.headerNamespace = Objects.requireNonNull(headerNamespace, "headerNamespace");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getHeaderNamespace() headerNamespace} to headerNamespace.
+     * @param headerNamespace The value for headerNamespace
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHeaderNamespace(Optional<String> headerNamespace) {
+      this.headerNamespace = headerNamespace.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getCxxRuntimeType() cxxRuntimeType} to cxxRuntimeType.
+     * @param cxxRuntimeType The value for cxxRuntimeType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxRuntimeType(Linker.CxxRuntimeType cxxRuntimeType) {
+      this.cxxRuntimeType = Objects.requireNonNull(cxxRuntimeType, "cxxRuntimeType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getCxxRuntimeType() cxxRuntimeType} to cxxRuntimeType.
+     * @param cxxRuntimeType The value for cxxRuntimeType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxRuntimeType(Optional<? extends Linker.CxxRuntimeType> cxxRuntimeType) {
+      this.cxxRuntimeType = cxxRuntimeType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getIncludeDirs() includeDirs} list.
+     * @param element A includeDirs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIncludeDirs(String element) {
+      this.includeDirs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getIncludeDirs() includeDirs} list.
+     * @param elements An array of includeDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIncludeDirs(String... elements) {
+      this.includeDirs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getIncludeDirs() includeDirs} list.
+     * @param elements An iterable of includeDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludeDirs(Iterable<String> elements) {
+      this.includeDirs = ImmutableList.builder();
+      return addAllIncludeDirs(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getIncludeDirs() includeDirs} list.
+     * @param elements An iterable of includeDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllIncludeDirs(Iterable<String> elements) {
+      this.includeDirs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDefaults() defaults} map.
+     * @param key The key in the defaults map
+     * @param value The associated value in the defaults map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putDefaults(String key, Flavor value) {
+      this.defaults.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDefaults() defaults} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putDefaults(Map.Entry<String, ? extends Flavor> entry) {
+      this.defaults.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDefaults() defaults} map. Nulls are not permitted
+     * @param defaults The entries that will be added to the defaults map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDefaults(Map<String, ? extends Flavor> defaults) {
+      this.defaults = ImmutableMap.builder();
+      return putAllDefaults(defaults);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDefaults() defaults} map. Nulls are not permitted
+     * @param defaults The entries that will be added to the defaults map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllDefaults(Map<String, ? extends Flavor> defaults) {
+      this.defaults.putAll(defaults);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDefaultPlatform() defaultPlatform} to defaultPlatform.
+     * @param defaultPlatform The value for defaultPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDefaultPlatform(Flavor defaultPlatform) {
+      this.defaultPlatform = Objects.requireNonNull(defaultPlatform, "defaultPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDefaultPlatform() defaultPlatform} to defaultPlatform.
+     * @param defaultPlatform The value for defaultPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDefaultPlatform(Optional<? extends Flavor> defaultPlatform) {
+      this.defaultPlatform = defaultPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param element A frameworks element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFrameworks(FrameworkPath element) {
+      this.frameworks.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An array of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFrameworks(FrameworkPath... elements) {
+      this.frameworks.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks = ImmutableSortedSet.naturalOrder();
+      return addAllFrameworks(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param element A libraries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLibraries(FrameworkPath element) {
+      this.libraries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An array of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLibraries(FrameworkPath... elements) {
+      this.libraries.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries = ImmutableSortedSet.naturalOrder();
+      return addAllLibraries(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getVersionUniverse() versionUniverse} to versionUniverse.
+     * @param versionUniverse The value for versionUniverse
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionUniverse(String versionUniverse) {
+      this.versionUniverse = Objects.requireNonNull(versionUniverse, "versionUniverse");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getVersionUniverse() versionUniverse} to versionUniverse.
+     * @param versionUniverse The value for versionUniverse
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionUniverse(Optional<String> versionUniverse) {
+      this.versionUniverse = versionUniverse.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDepsQuery() depsQuery} to depsQuery.
+     * @param depsQuery The value for depsQuery
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDepsQuery(Query depsQuery) {
+      this.depsQuery = Objects.requireNonNull(depsQuery, "depsQuery");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getDepsQuery() depsQuery} to depsQuery.
+     * @param depsQuery The value for depsQuery
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDepsQuery(Optional<? extends Query> depsQuery) {
+      this.depsQuery = depsQuery.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param element A contacts element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addContacts(String element) {
+      this.contacts.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An array of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addContacts(String... elements) {
+      this.contacts.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setContacts(Iterable<String> elements) {
+      this.contacts = ImmutableSortedSet.naturalOrder();
+      return addAllContacts(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllContacts(Iterable<String> elements) {
+      this.contacts.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} to testRuleTimeoutMs.
+     * @param testRuleTimeoutMs The value for testRuleTimeoutMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestRuleTimeoutMs(long testRuleTimeoutMs) {
+      this.testRuleTimeoutMs = testRuleTimeoutMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxTestDescription.AbstractCxxTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} to testRuleTimeoutMs.
+     * @param testRuleTimeoutMs The value for testRuleTimeoutMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestRuleTimeoutMs(Optional<Long> testRuleTimeoutMs) {
+      this.testRuleTimeoutMs = testRuleTimeoutMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxTestDescriptionArg CxxTestDescriptionArg}.
+     * @return An immutable instance of CxxTestDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxTestDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return CxxTestDescriptionArg.validate(new CxxTestDescriptionArg(this));
+    }
+
+    private boolean linkDepsQueryWholeIsSet() {
+      return (optBits & OPT_BIT_LINK_DEPS_QUERY_WHOLE) != 0;
+    }
+
+    private boolean thinLtoIsSet() {
+      return (optBits & OPT_BIT_THIN_LTO) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build CxxTestDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,452 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractDeprecatedPrebuiltCxxLibraryPaths}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DeprecatedPrebuiltCxxLibraryPaths.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDeprecatedPrebuiltCxxLibraryPaths"})
+@Immutable
+public final class DeprecatedPrebuiltCxxLibraryPaths
+    extends AbstractDeprecatedPrebuiltCxxLibraryPaths {
+  private final BuildTarget target;
+  private final @Nullable String versionSubdir;
+  private final ImmutableList<String> includeDirs;
+  private final @Nullable String libDir;
+  private final @Nullable String libName;
+
+  private DeprecatedPrebuiltCxxLibraryPaths(
+      BuildTarget target,
+      @Nullable String versionSubdir,
+      ImmutableList<String> includeDirs,
+      @Nullable String libDir,
+      @Nullable String libName) {
+    this.target = target;
+    this.versionSubdir = versionSubdir;
+    this.includeDirs = includeDirs;
+    this.libDir = libDir;
+    this.libName = libName;
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * @return The value of the {@code versionSubdir} attribute
+   */
+  @Override
+  public Optional<String> getVersionSubdir() {
+    return Optional.ofNullable(versionSubdir);
+  }
+
+  /**
+   * @return The value of the {@code includeDirs} attribute
+   */
+  @Override
+  public ImmutableList<String> getIncludeDirs() {
+    return includeDirs;
+  }
+
+  /**
+   * @return The value of the {@code libDir} attribute
+   */
+  @Override
+  public Optional<String> getLibDir() {
+    return Optional.ofNullable(libDir);
+  }
+
+  /**
+   * @return The value of the {@code libName} attribute
+   */
+  @Override
+  public Optional<String> getLibName() {
+    return Optional.ofNullable(libName);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final DeprecatedPrebuiltCxxLibraryPaths withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "target");
+    return new DeprecatedPrebuiltCxxLibraryPaths(newValue, this.versionSubdir, this.includeDirs, this.libDir, this.libName);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getVersionSubdir() versionSubdir} attribute.
+   * @param value The value for versionSubdir
+   * @return A modified copy of {@code this} object
+   */
+  public final DeprecatedPrebuiltCxxLibraryPaths withVersionSubdir(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "versionSubdir");
+    if (Objects.equals(this.versionSubdir, newValue)) return this;
+    return new DeprecatedPrebuiltCxxLibraryPaths(this.target, newValue, this.includeDirs, this.libDir, this.libName);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getVersionSubdir() versionSubdir} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for versionSubdir
+   * @return A modified copy of {@code this} object
+   */
+  public final DeprecatedPrebuiltCxxLibraryPaths withVersionSubdir(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.versionSubdir, value)) return this;
+    return new DeprecatedPrebuiltCxxLibraryPaths(this.target, value, this.includeDirs, this.libDir, this.libName);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getIncludeDirs() includeDirs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DeprecatedPrebuiltCxxLibraryPaths withIncludeDirs(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new DeprecatedPrebuiltCxxLibraryPaths(this.target, this.versionSubdir, newValue, this.libDir, this.libName);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getIncludeDirs() includeDirs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of includeDirs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DeprecatedPrebuiltCxxLibraryPaths withIncludeDirs(Iterable<String> elements) {
+    if (this.includeDirs == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new DeprecatedPrebuiltCxxLibraryPaths(this.target, this.versionSubdir, newValue, this.libDir, this.libName);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getLibDir() libDir} attribute.
+   * @param value The value for libDir
+   * @return A modified copy of {@code this} object
+   */
+  public final DeprecatedPrebuiltCxxLibraryPaths withLibDir(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "libDir");
+    if (Objects.equals(this.libDir, newValue)) return this;
+    return new DeprecatedPrebuiltCxxLibraryPaths(this.target, this.versionSubdir, this.includeDirs, newValue, this.libName);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getLibDir() libDir} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for libDir
+   * @return A modified copy of {@code this} object
+   */
+  public final DeprecatedPrebuiltCxxLibraryPaths withLibDir(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.libDir, value)) return this;
+    return new DeprecatedPrebuiltCxxLibraryPaths(this.target, this.versionSubdir, this.includeDirs, value, this.libName);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getLibName() libName} attribute.
+   * @param value The value for libName
+   * @return A modified copy of {@code this} object
+   */
+  public final DeprecatedPrebuiltCxxLibraryPaths withLibName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "libName");
+    if (Objects.equals(this.libName, newValue)) return this;
+    return new DeprecatedPrebuiltCxxLibraryPaths(this.target, this.versionSubdir, this.includeDirs, this.libDir, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getLibName() libName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for libName
+   * @return A modified copy of {@code this} object
+   */
+  public final DeprecatedPrebuiltCxxLibraryPaths withLibName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.libName, value)) return this;
+    return new DeprecatedPrebuiltCxxLibraryPaths(this.target, this.versionSubdir, this.includeDirs, this.libDir, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DeprecatedPrebuiltCxxLibraryPaths} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DeprecatedPrebuiltCxxLibraryPaths
+        && equalTo((DeprecatedPrebuiltCxxLibraryPaths) another);
+  }
+
+  private boolean equalTo(DeprecatedPrebuiltCxxLibraryPaths another) {
+    return target.equals(another.target)
+        && Objects.equals(versionSubdir, another.versionSubdir)
+        && includeDirs.equals(another.includeDirs)
+        && Objects.equals(libDir, another.libDir)
+        && Objects.equals(libName, another.libName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code target}, {@code versionSubdir}, {@code includeDirs}, {@code libDir}, {@code libName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + target.hashCode();
+    h += (h << 5) + Objects.hashCode(versionSubdir);
+    h += (h << 5) + includeDirs.hashCode();
+    h += (h << 5) + Objects.hashCode(libDir);
+    h += (h << 5) + Objects.hashCode(libName);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DeprecatedPrebuiltCxxLibraryPaths} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DeprecatedPrebuiltCxxLibraryPaths")
+        .omitNullValues()
+        .add("target", target)
+        .add("versionSubdir", versionSubdir)
+        .add("includeDirs", includeDirs)
+        .add("libDir", libDir)
+        .add("libName", libName)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractDeprecatedPrebuiltCxxLibraryPaths} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DeprecatedPrebuiltCxxLibraryPaths instance
+   */
+  static DeprecatedPrebuiltCxxLibraryPaths copyOf(AbstractDeprecatedPrebuiltCxxLibraryPaths instance) {
+    if (instance instanceof DeprecatedPrebuiltCxxLibraryPaths) {
+      return (DeprecatedPrebuiltCxxLibraryPaths) instance;
+    }
+    return DeprecatedPrebuiltCxxLibraryPaths.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DeprecatedPrebuiltCxxLibraryPaths DeprecatedPrebuiltCxxLibraryPaths}.
+   * @return A new DeprecatedPrebuiltCxxLibraryPaths builder
+   */
+  public static DeprecatedPrebuiltCxxLibraryPaths.Builder builder() {
+    return new DeprecatedPrebuiltCxxLibraryPaths.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DeprecatedPrebuiltCxxLibraryPaths DeprecatedPrebuiltCxxLibraryPaths}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TARGET = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable BuildTarget target;
+    private @Nullable String versionSubdir;
+    private ImmutableList.Builder<String> includeDirs = ImmutableList.builder();
+    private @Nullable String libDir;
+    private @Nullable String libName;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DeprecatedPrebuiltCxxLibraryPaths} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DeprecatedPrebuiltCxxLibraryPaths instance) {
+      return from((AbstractDeprecatedPrebuiltCxxLibraryPaths) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDeprecatedPrebuiltCxxLibraryPaths} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractDeprecatedPrebuiltCxxLibraryPaths instance) {
+      Objects.requireNonNull(instance, "instance");
+      setTarget(instance.getTarget());
+      Optional<String> versionSubdirOptional = instance.getVersionSubdir();
+      if (versionSubdirOptional.isPresent()) {
+        setVersionSubdir(versionSubdirOptional);
+      }
+      addAllIncludeDirs(instance.getIncludeDirs());
+      Optional<String> libDirOptional = instance.getLibDir();
+      if (libDirOptional.isPresent()) {
+        setLibDir(libDirOptional);
+      }
+      Optional<String> libNameOptional = instance.getLibName();
+      if (libNameOptional.isPresent()) {
+        setLibName(libNameOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getTarget() target} attribute.
+     * @param target The value for target 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTarget(BuildTarget target) {
+      this.target = Objects.requireNonNull(target, "target");
+      initBits &= ~INIT_BIT_TARGET;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getVersionSubdir() versionSubdir} to versionSubdir.
+     * @param versionSubdir The value for versionSubdir
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionSubdir(String versionSubdir) {
+      this.versionSubdir = Objects.requireNonNull(versionSubdir, "versionSubdir");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getVersionSubdir() versionSubdir} to versionSubdir.
+     * @param versionSubdir The value for versionSubdir
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionSubdir(Optional<String> versionSubdir) {
+      this.versionSubdir = versionSubdir.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getIncludeDirs() includeDirs} list.
+     * @param element A includeDirs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIncludeDirs(String element) {
+      this.includeDirs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getIncludeDirs() includeDirs} list.
+     * @param elements An array of includeDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIncludeDirs(String... elements) {
+      this.includeDirs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getIncludeDirs() includeDirs} list.
+     * @param elements An iterable of includeDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludeDirs(Iterable<String> elements) {
+      this.includeDirs = ImmutableList.builder();
+      return addAllIncludeDirs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getIncludeDirs() includeDirs} list.
+     * @param elements An iterable of includeDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllIncludeDirs(Iterable<String> elements) {
+      this.includeDirs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getLibDir() libDir} to libDir.
+     * @param libDir The value for libDir
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLibDir(String libDir) {
+      this.libDir = Objects.requireNonNull(libDir, "libDir");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getLibDir() libDir} to libDir.
+     * @param libDir The value for libDir
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLibDir(Optional<String> libDir) {
+      this.libDir = libDir.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getLibName() libName} to libName.
+     * @param libName The value for libName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLibName(String libName) {
+      this.libName = Objects.requireNonNull(libName, "libName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDeprecatedPrebuiltCxxLibraryPaths#getLibName() libName} to libName.
+     * @param libName The value for libName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLibName(Optional<String> libName) {
+      this.libName = libName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DeprecatedPrebuiltCxxLibraryPaths DeprecatedPrebuiltCxxLibraryPaths}.
+     * @return An immutable instance of DeprecatedPrebuiltCxxLibraryPaths
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DeprecatedPrebuiltCxxLibraryPaths build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DeprecatedPrebuiltCxxLibraryPaths(target, versionSubdir, includeDirs.build(), libDir, libName);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TARGET) != 0) attributes.add("target");
+      return "Cannot build DeprecatedPrebuiltCxxLibraryPaths, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,230 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.cxx.toolchain.elf.ElfDynamicSection;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractElfDynamicSectionScrubberStep}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ElfDynamicSectionScrubberStep.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractElfDynamicSectionScrubberStep"})
+@Immutable
+final class ElfDynamicSectionScrubberStep
+    extends AbstractElfDynamicSectionScrubberStep {
+  private final ProjectFilesystem filesystem;
+  private final Path path;
+  private final ImmutableSet<ElfDynamicSection.DTag> whitelistedTags;
+  private final boolean removeScrubbedTags;
+
+  private ElfDynamicSectionScrubberStep(
+      ProjectFilesystem filesystem,
+      Path path,
+      Iterable<ElfDynamicSection.DTag> whitelistedTags,
+      boolean removeScrubbedTags) {
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.path = Objects.requireNonNull(path, "path");
+    this.whitelistedTags = Sets.immutableEnumSet(whitelistedTags);
+    this.removeScrubbedTags = removeScrubbedTags;
+  }
+
+  private ElfDynamicSectionScrubberStep(
+      ElfDynamicSectionScrubberStep original,
+      ProjectFilesystem filesystem,
+      Path path,
+      ImmutableSet<ElfDynamicSection.DTag> whitelistedTags,
+      boolean removeScrubbedTags) {
+    this.filesystem = filesystem;
+    this.path = path;
+    this.whitelistedTags = whitelistedTags;
+    this.removeScrubbedTags = removeScrubbedTags;
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  Path getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code whitelistedTags} attribute
+   */
+  @Override
+  ImmutableSet<ElfDynamicSection.DTag> getWhitelistedTags() {
+    return whitelistedTags;
+  }
+
+  /**
+   * @return The value of the {@code removeScrubbedTags} attribute
+   */
+  @Override
+  boolean isRemoveScrubbedTags() {
+    return removeScrubbedTags;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfDynamicSectionScrubberStep#getFilesystem() filesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for filesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfDynamicSectionScrubberStep withFilesystem(ProjectFilesystem value) {
+    if (this.filesystem == value) return this;
+    ProjectFilesystem newValue = Objects.requireNonNull(value, "filesystem");
+    return new ElfDynamicSectionScrubberStep(this, newValue, this.path, this.whitelistedTags, this.removeScrubbedTags);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfDynamicSectionScrubberStep#getPath() path} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfDynamicSectionScrubberStep withPath(Path value) {
+    if (this.path == value) return this;
+    Path newValue = Objects.requireNonNull(value, "path");
+    return new ElfDynamicSectionScrubberStep(this, this.filesystem, newValue, this.whitelistedTags, this.removeScrubbedTags);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractElfDynamicSectionScrubberStep#getWhitelistedTags() whitelistedTags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ElfDynamicSectionScrubberStep withWhitelistedTags(ElfDynamicSection.DTag... elements) {
+    ImmutableSet<ElfDynamicSection.DTag> newValue = Sets.immutableEnumSet(Arrays.asList(elements));
+    return new ElfDynamicSectionScrubberStep(this, this.filesystem, this.path, newValue, this.removeScrubbedTags);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractElfDynamicSectionScrubberStep#getWhitelistedTags() whitelistedTags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of whitelistedTags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ElfDynamicSectionScrubberStep withWhitelistedTags(Iterable<ElfDynamicSection.DTag> elements) {
+    if (this.whitelistedTags == elements) return this;
+    ImmutableSet<ElfDynamicSection.DTag> newValue = Sets.immutableEnumSet(elements);
+    return new ElfDynamicSectionScrubberStep(this, this.filesystem, this.path, newValue, this.removeScrubbedTags);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfDynamicSectionScrubberStep#isRemoveScrubbedTags() removeScrubbedTags} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for removeScrubbedTags
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfDynamicSectionScrubberStep withRemoveScrubbedTags(boolean value) {
+    if (this.removeScrubbedTags == value) return this;
+    return new ElfDynamicSectionScrubberStep(this, this.filesystem, this.path, this.whitelistedTags, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ElfDynamicSectionScrubberStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ElfDynamicSectionScrubberStep
+        && equalTo((ElfDynamicSectionScrubberStep) another);
+  }
+
+  private boolean equalTo(ElfDynamicSectionScrubberStep another) {
+    return filesystem.equals(another.filesystem)
+        && path.equals(another.path)
+        && whitelistedTags.equals(another.whitelistedTags)
+        && removeScrubbedTags == another.removeScrubbedTags;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filesystem}, {@code path}, {@code whitelistedTags}, {@code removeScrubbedTags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + filesystem.hashCode();
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + whitelistedTags.hashCode();
+    h += (h << 5) + Booleans.hashCode(removeScrubbedTags);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ElfDynamicSectionScrubberStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ElfDynamicSectionScrubberStep")
+        .omitNullValues()
+        .add("filesystem", filesystem)
+        .add("path", path)
+        .add("whitelistedTags", whitelistedTags)
+        .add("removeScrubbedTags", removeScrubbedTags)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ElfDynamicSectionScrubberStep} instance.
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param path The value for the {@code path} attribute
+   * @param whitelistedTags The value for the {@code whitelistedTags} attribute
+   * @param removeScrubbedTags The value for the {@code removeScrubbedTags} attribute
+   * @return An immutable ElfDynamicSectionScrubberStep instance
+   */
+  public static ElfDynamicSectionScrubberStep of(ProjectFilesystem filesystem, Path path, ImmutableSet<ElfDynamicSection.DTag> whitelistedTags, boolean removeScrubbedTags) {
+    return of(filesystem, path, (Iterable<ElfDynamicSection.DTag>) whitelistedTags, removeScrubbedTags);
+  }
+
+  /**
+   * Construct a new immutable {@code ElfDynamicSectionScrubberStep} instance.
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param path The value for the {@code path} attribute
+   * @param whitelistedTags The value for the {@code whitelistedTags} attribute
+   * @param removeScrubbedTags The value for the {@code removeScrubbedTags} attribute
+   * @return An immutable ElfDynamicSectionScrubberStep instance
+   */
+  public static ElfDynamicSectionScrubberStep of(ProjectFilesystem filesystem, Path path, Iterable<ElfDynamicSection.DTag> whitelistedTags, boolean removeScrubbedTags) {
+    return new ElfDynamicSectionScrubberStep(filesystem, path, whitelistedTags, removeScrubbedTags);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractElfDynamicSectionScrubberStep} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ElfDynamicSectionScrubberStep instance
+   */
+  public static ElfDynamicSectionScrubberStep copyOf(AbstractElfDynamicSectionScrubberStep instance) {
+    if (instance instanceof ElfDynamicSectionScrubberStep) {
+      return (ElfDynamicSectionScrubberStep) instance;
+    }
+    return ElfDynamicSectionScrubberStep.of(instance.getFilesystem(), instance.getPath(), instance.getWhitelistedTags(), instance.isRemoveScrubbedTags());
+  }
+}
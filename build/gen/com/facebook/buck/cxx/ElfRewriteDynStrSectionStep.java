@@ -0,0 +1,144 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractElfRewriteDynStrSectionStep}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ElfRewriteDynStrSectionStep.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractElfRewriteDynStrSectionStep"})
+@Immutable
+final class ElfRewriteDynStrSectionStep
+    extends AbstractElfRewriteDynStrSectionStep {
+  private final ProjectFilesystem filesystem;
+  private final Path path;
+
+  private ElfRewriteDynStrSectionStep(ProjectFilesystem filesystem, Path path) {
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.path = Objects.requireNonNull(path, "path");
+  }
+
+  private ElfRewriteDynStrSectionStep(
+      ElfRewriteDynStrSectionStep original,
+      ProjectFilesystem filesystem,
+      Path path) {
+    this.filesystem = filesystem;
+    this.path = path;
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  Path getPath() {
+    return path;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfRewriteDynStrSectionStep#getFilesystem() filesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for filesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfRewriteDynStrSectionStep withFilesystem(ProjectFilesystem value) {
+    if (this.filesystem == value) return this;
+    ProjectFilesystem newValue = Objects.requireNonNull(value, "filesystem");
+    return new ElfRewriteDynStrSectionStep(this, newValue, this.path);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfRewriteDynStrSectionStep#getPath() path} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfRewriteDynStrSectionStep withPath(Path value) {
+    if (this.path == value) return this;
+    Path newValue = Objects.requireNonNull(value, "path");
+    return new ElfRewriteDynStrSectionStep(this, this.filesystem, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ElfRewriteDynStrSectionStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ElfRewriteDynStrSectionStep
+        && equalTo((ElfRewriteDynStrSectionStep) another);
+  }
+
+  private boolean equalTo(ElfRewriteDynStrSectionStep another) {
+    return filesystem.equals(another.filesystem)
+        && path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filesystem}, {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + filesystem.hashCode();
+    h += (h << 5) + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ElfRewriteDynStrSectionStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ElfRewriteDynStrSectionStep")
+        .omitNullValues()
+        .add("filesystem", filesystem)
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ElfRewriteDynStrSectionStep} instance.
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param path The value for the {@code path} attribute
+   * @return An immutable ElfRewriteDynStrSectionStep instance
+   */
+  public static ElfRewriteDynStrSectionStep of(ProjectFilesystem filesystem, Path path) {
+    return new ElfRewriteDynStrSectionStep(filesystem, path);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractElfRewriteDynStrSectionStep} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ElfRewriteDynStrSectionStep instance
+   */
+  public static ElfRewriteDynStrSectionStep copyOf(AbstractElfRewriteDynStrSectionStep instance) {
+    if (instance instanceof ElfRewriteDynStrSectionStep) {
+      return (ElfRewriteDynStrSectionStep) instance;
+    }
+    return ElfRewriteDynStrSectionStep.of(instance.getFilesystem(), instance.getPath());
+  }
+}
@@ -0,0 +1,143 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractElfScrubFileHeaderStep}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ElfScrubFileHeaderStep.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractElfScrubFileHeaderStep"})
+@Immutable
+final class ElfScrubFileHeaderStep extends AbstractElfScrubFileHeaderStep {
+  private final ProjectFilesystem filesystem;
+  private final Path path;
+
+  private ElfScrubFileHeaderStep(ProjectFilesystem filesystem, Path path) {
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.path = Objects.requireNonNull(path, "path");
+  }
+
+  private ElfScrubFileHeaderStep(
+      ElfScrubFileHeaderStep original,
+      ProjectFilesystem filesystem,
+      Path path) {
+    this.filesystem = filesystem;
+    this.path = path;
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  Path getPath() {
+    return path;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfScrubFileHeaderStep#getFilesystem() filesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for filesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfScrubFileHeaderStep withFilesystem(ProjectFilesystem value) {
+    if (this.filesystem == value) return this;
+    ProjectFilesystem newValue = Objects.requireNonNull(value, "filesystem");
+    return new ElfScrubFileHeaderStep(this, newValue, this.path);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfScrubFileHeaderStep#getPath() path} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfScrubFileHeaderStep withPath(Path value) {
+    if (this.path == value) return this;
+    Path newValue = Objects.requireNonNull(value, "path");
+    return new ElfScrubFileHeaderStep(this, this.filesystem, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ElfScrubFileHeaderStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ElfScrubFileHeaderStep
+        && equalTo((ElfScrubFileHeaderStep) another);
+  }
+
+  private boolean equalTo(ElfScrubFileHeaderStep another) {
+    return filesystem.equals(another.filesystem)
+        && path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filesystem}, {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + filesystem.hashCode();
+    h += (h << 5) + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ElfScrubFileHeaderStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ElfScrubFileHeaderStep")
+        .omitNullValues()
+        .add("filesystem", filesystem)
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ElfScrubFileHeaderStep} instance.
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param path The value for the {@code path} attribute
+   * @return An immutable ElfScrubFileHeaderStep instance
+   */
+  public static ElfScrubFileHeaderStep of(ProjectFilesystem filesystem, Path path) {
+    return new ElfScrubFileHeaderStep(filesystem, path);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractElfScrubFileHeaderStep} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ElfScrubFileHeaderStep instance
+   */
+  public static ElfScrubFileHeaderStep copyOf(AbstractElfScrubFileHeaderStep instance) {
+    if (instance instanceof ElfScrubFileHeaderStep) {
+      return (ElfScrubFileHeaderStep) instance;
+    }
+    return ElfScrubFileHeaderStep.of(instance.getFilesystem(), instance.getPath());
+  }
+}
@@ -0,0 +1,1270 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.facebook.buck.rules.coercer.VersionMatchedCollection;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractNewPrebuiltCxxLibraryPaths}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code NewPrebuiltCxxLibraryPaths.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNewPrebuiltCxxLibraryPaths"})
+@Immutable
+public final class NewPrebuiltCxxLibraryPaths extends AbstractNewPrebuiltCxxLibraryPaths {
+  private final BuildTarget target;
+  private final @Nullable ImmutableList<SourcePath> headerDirs;
+  private final @Nullable PatternMatchedCollection<ImmutableList<SourcePath>> platformHeaderDirs;
+  private final @Nullable VersionMatchedCollection<ImmutableList<SourcePath>> versionedHeaderDirs;
+  private final @Nullable SourcePath sharedLib;
+  private final @Nullable PatternMatchedCollection<SourcePath> platformSharedLib;
+  private final @Nullable VersionMatchedCollection<SourcePath> versionedSharedLib;
+  private final @Nullable SourcePath staticLib;
+  private final @Nullable PatternMatchedCollection<SourcePath> platformStaticLib;
+  private final @Nullable VersionMatchedCollection<SourcePath> versionedStaticLib;
+  private final @Nullable SourcePath staticPicLib;
+  private final @Nullable PatternMatchedCollection<SourcePath> platformStaticPicLib;
+  private final @Nullable VersionMatchedCollection<SourcePath> versionedStaticPicLib;
+
+  private NewPrebuiltCxxLibraryPaths(
+      BuildTarget target,
+      @Nullable ImmutableList<SourcePath> headerDirs,
+      @Nullable PatternMatchedCollection<ImmutableList<SourcePath>> platformHeaderDirs,
+      @Nullable VersionMatchedCollection<ImmutableList<SourcePath>> versionedHeaderDirs,
+      @Nullable SourcePath sharedLib,
+      @Nullable PatternMatchedCollection<SourcePath> platformSharedLib,
+      @Nullable VersionMatchedCollection<SourcePath> versionedSharedLib,
+      @Nullable SourcePath staticLib,
+      @Nullable PatternMatchedCollection<SourcePath> platformStaticLib,
+      @Nullable VersionMatchedCollection<SourcePath> versionedStaticLib,
+      @Nullable SourcePath staticPicLib,
+      @Nullable PatternMatchedCollection<SourcePath> platformStaticPicLib,
+      @Nullable VersionMatchedCollection<SourcePath> versionedStaticPicLib) {
+    this.target = target;
+    this.headerDirs = headerDirs;
+    this.platformHeaderDirs = platformHeaderDirs;
+    this.versionedHeaderDirs = versionedHeaderDirs;
+    this.sharedLib = sharedLib;
+    this.platformSharedLib = platformSharedLib;
+    this.versionedSharedLib = versionedSharedLib;
+    this.staticLib = staticLib;
+    this.platformStaticLib = platformStaticLib;
+    this.versionedStaticLib = versionedStaticLib;
+    this.staticPicLib = staticPicLib;
+    this.platformStaticPicLib = platformStaticPicLib;
+    this.versionedStaticPicLib = versionedStaticPicLib;
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * @return The value of the {@code headerDirs} attribute
+   */
+  @Override
+  public Optional<ImmutableList<SourcePath>> getHeaderDirs() {
+    return Optional.ofNullable(headerDirs);
+  }
+
+  /**
+   * @return The value of the {@code platformHeaderDirs} attribute
+   */
+  @Override
+  public Optional<PatternMatchedCollection<ImmutableList<SourcePath>>> getPlatformHeaderDirs() {
+    return Optional.ofNullable(platformHeaderDirs);
+  }
+
+  /**
+   * @return The value of the {@code versionedHeaderDirs} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<ImmutableList<SourcePath>>> getVersionedHeaderDirs() {
+    return Optional.ofNullable(versionedHeaderDirs);
+  }
+
+  /**
+   * @return The value of the {@code sharedLib} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSharedLib() {
+    return Optional.ofNullable(sharedLib);
+  }
+
+  /**
+   * @return The value of the {@code platformSharedLib} attribute
+   */
+  @Override
+  public Optional<PatternMatchedCollection<SourcePath>> getPlatformSharedLib() {
+    return Optional.ofNullable(platformSharedLib);
+  }
+
+  /**
+   * @return The value of the {@code versionedSharedLib} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<SourcePath>> getVersionedSharedLib() {
+    return Optional.ofNullable(versionedSharedLib);
+  }
+
+  /**
+   * @return The value of the {@code staticLib} attribute
+   */
+  @Override
+  public Optional<SourcePath> getStaticLib() {
+    return Optional.ofNullable(staticLib);
+  }
+
+  /**
+   * @return The value of the {@code platformStaticLib} attribute
+   */
+  @Override
+  public Optional<PatternMatchedCollection<SourcePath>> getPlatformStaticLib() {
+    return Optional.ofNullable(platformStaticLib);
+  }
+
+  /**
+   * @return The value of the {@code versionedStaticLib} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<SourcePath>> getVersionedStaticLib() {
+    return Optional.ofNullable(versionedStaticLib);
+  }
+
+  /**
+   * @return The value of the {@code staticPicLib} attribute
+   */
+  @Override
+  public Optional<SourcePath> getStaticPicLib() {
+    return Optional.ofNullable(staticPicLib);
+  }
+
+  /**
+   * @return The value of the {@code platformStaticPicLib} attribute
+   */
+  @Override
+  public Optional<PatternMatchedCollection<SourcePath>> getPlatformStaticPicLib() {
+    return Optional.ofNullable(platformStaticPicLib);
+  }
+
+  /**
+   * @return The value of the {@code versionedStaticPicLib} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<SourcePath>> getVersionedStaticPicLib() {
+    return Optional.ofNullable(versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNewPrebuiltCxxLibraryPaths#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "target");
+    return new NewPrebuiltCxxLibraryPaths(
+        newValue,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNewPrebuiltCxxLibraryPaths#getHeaderDirs() headerDirs} attribute.
+   * @param value The value for headerDirs
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withHeaderDirs(ImmutableList<SourcePath> value) {
+    @Nullable ImmutableList<SourcePath> newValue = Objects.requireNonNull(value, "headerDirs");
+    if (this.headerDirs == newValue) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        newValue,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNewPrebuiltCxxLibraryPaths#getHeaderDirs() headerDirs} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for headerDirs
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withHeaderDirs(Optional<? extends ImmutableList<SourcePath>> optional) {
+    @Nullable ImmutableList<SourcePath> value = optional.orElse(null);
+    if (this.headerDirs == value) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        value,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNewPrebuiltCxxLibraryPaths#getPlatformHeaderDirs() platformHeaderDirs} attribute.
+   * @param value The value for platformHeaderDirs
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withPlatformHeaderDirs(PatternMatchedCollection<ImmutableList<SourcePath>> value) {
+    @Nullable PatternMatchedCollection<ImmutableList<SourcePath>> newValue = Objects.requireNonNull(value, "platformHeaderDirs");
+    if (this.platformHeaderDirs == newValue) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        newValue,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNewPrebuiltCxxLibraryPaths#getPlatformHeaderDirs() platformHeaderDirs} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for platformHeaderDirs
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withPlatformHeaderDirs(Optional<? extends PatternMatchedCollection<ImmutableList<SourcePath>>> optional) {
+    @Nullable PatternMatchedCollection<ImmutableList<SourcePath>> value = optional.orElse(null);
+    if (this.platformHeaderDirs == value) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        value,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNewPrebuiltCxxLibraryPaths#getVersionedHeaderDirs() versionedHeaderDirs} attribute.
+   * @param value The value for versionedHeaderDirs
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withVersionedHeaderDirs(VersionMatchedCollection<ImmutableList<SourcePath>> value) {
+    @Nullable VersionMatchedCollection<ImmutableList<SourcePath>> newValue = Objects.requireNonNull(value, "versionedHeaderDirs");
+    if (this.versionedHeaderDirs == newValue) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        newValue,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNewPrebuiltCxxLibraryPaths#getVersionedHeaderDirs() versionedHeaderDirs} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for versionedHeaderDirs
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withVersionedHeaderDirs(Optional<? extends VersionMatchedCollection<ImmutableList<SourcePath>>> optional) {
+    @Nullable VersionMatchedCollection<ImmutableList<SourcePath>> value = optional.orElse(null);
+    if (this.versionedHeaderDirs == value) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        value,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNewPrebuiltCxxLibraryPaths#getSharedLib() sharedLib} attribute.
+   * @param value The value for sharedLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withSharedLib(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "sharedLib");
+    if (this.sharedLib == newValue) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        newValue,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNewPrebuiltCxxLibraryPaths#getSharedLib() sharedLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sharedLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withSharedLib(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.sharedLib == value) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        value,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNewPrebuiltCxxLibraryPaths#getPlatformSharedLib() platformSharedLib} attribute.
+   * @param value The value for platformSharedLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withPlatformSharedLib(PatternMatchedCollection<SourcePath> value) {
+    @Nullable PatternMatchedCollection<SourcePath> newValue = Objects.requireNonNull(value, "platformSharedLib");
+    if (this.platformSharedLib == newValue) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        newValue,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNewPrebuiltCxxLibraryPaths#getPlatformSharedLib() platformSharedLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for platformSharedLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withPlatformSharedLib(Optional<? extends PatternMatchedCollection<SourcePath>> optional) {
+    @Nullable PatternMatchedCollection<SourcePath> value = optional.orElse(null);
+    if (this.platformSharedLib == value) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        value,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNewPrebuiltCxxLibraryPaths#getVersionedSharedLib() versionedSharedLib} attribute.
+   * @param value The value for versionedSharedLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withVersionedSharedLib(VersionMatchedCollection<SourcePath> value) {
+    @Nullable VersionMatchedCollection<SourcePath> newValue = Objects.requireNonNull(value, "versionedSharedLib");
+    if (this.versionedSharedLib == newValue) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        newValue,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNewPrebuiltCxxLibraryPaths#getVersionedSharedLib() versionedSharedLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for versionedSharedLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withVersionedSharedLib(Optional<? extends VersionMatchedCollection<SourcePath>> optional) {
+    @Nullable VersionMatchedCollection<SourcePath> value = optional.orElse(null);
+    if (this.versionedSharedLib == value) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        value,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNewPrebuiltCxxLibraryPaths#getStaticLib() staticLib} attribute.
+   * @param value The value for staticLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withStaticLib(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "staticLib");
+    if (this.staticLib == newValue) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        newValue,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNewPrebuiltCxxLibraryPaths#getStaticLib() staticLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for staticLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withStaticLib(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.staticLib == value) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        value,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNewPrebuiltCxxLibraryPaths#getPlatformStaticLib() platformStaticLib} attribute.
+   * @param value The value for platformStaticLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withPlatformStaticLib(PatternMatchedCollection<SourcePath> value) {
+    @Nullable PatternMatchedCollection<SourcePath> newValue = Objects.requireNonNull(value, "platformStaticLib");
+    if (this.platformStaticLib == newValue) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        newValue,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNewPrebuiltCxxLibraryPaths#getPlatformStaticLib() platformStaticLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for platformStaticLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withPlatformStaticLib(Optional<? extends PatternMatchedCollection<SourcePath>> optional) {
+    @Nullable PatternMatchedCollection<SourcePath> value = optional.orElse(null);
+    if (this.platformStaticLib == value) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        value,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNewPrebuiltCxxLibraryPaths#getVersionedStaticLib() versionedStaticLib} attribute.
+   * @param value The value for versionedStaticLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withVersionedStaticLib(VersionMatchedCollection<SourcePath> value) {
+    @Nullable VersionMatchedCollection<SourcePath> newValue = Objects.requireNonNull(value, "versionedStaticLib");
+    if (this.versionedStaticLib == newValue) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        newValue,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNewPrebuiltCxxLibraryPaths#getVersionedStaticLib() versionedStaticLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for versionedStaticLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withVersionedStaticLib(Optional<? extends VersionMatchedCollection<SourcePath>> optional) {
+    @Nullable VersionMatchedCollection<SourcePath> value = optional.orElse(null);
+    if (this.versionedStaticLib == value) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        value,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNewPrebuiltCxxLibraryPaths#getStaticPicLib() staticPicLib} attribute.
+   * @param value The value for staticPicLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withStaticPicLib(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "staticPicLib");
+    if (this.staticPicLib == newValue) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        newValue,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNewPrebuiltCxxLibraryPaths#getStaticPicLib() staticPicLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for staticPicLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withStaticPicLib(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.staticPicLib == value) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        value,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNewPrebuiltCxxLibraryPaths#getPlatformStaticPicLib() platformStaticPicLib} attribute.
+   * @param value The value for platformStaticPicLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withPlatformStaticPicLib(PatternMatchedCollection<SourcePath> value) {
+    @Nullable PatternMatchedCollection<SourcePath> newValue = Objects.requireNonNull(value, "platformStaticPicLib");
+    if (this.platformStaticPicLib == newValue) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        newValue,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNewPrebuiltCxxLibraryPaths#getPlatformStaticPicLib() platformStaticPicLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for platformStaticPicLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withPlatformStaticPicLib(Optional<? extends PatternMatchedCollection<SourcePath>> optional) {
+    @Nullable PatternMatchedCollection<SourcePath> value = optional.orElse(null);
+    if (this.platformStaticPicLib == value) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        value,
+        this.versionedStaticPicLib);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNewPrebuiltCxxLibraryPaths#getVersionedStaticPicLib() versionedStaticPicLib} attribute.
+   * @param value The value for versionedStaticPicLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withVersionedStaticPicLib(VersionMatchedCollection<SourcePath> value) {
+    @Nullable VersionMatchedCollection<SourcePath> newValue = Objects.requireNonNull(value, "versionedStaticPicLib");
+    if (this.versionedStaticPicLib == newValue) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNewPrebuiltCxxLibraryPaths#getVersionedStaticPicLib() versionedStaticPicLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for versionedStaticPicLib
+   * @return A modified copy of {@code this} object
+   */
+  public final NewPrebuiltCxxLibraryPaths withVersionedStaticPicLib(Optional<? extends VersionMatchedCollection<SourcePath>> optional) {
+    @Nullable VersionMatchedCollection<SourcePath> value = optional.orElse(null);
+    if (this.versionedStaticPicLib == value) return this;
+    return new NewPrebuiltCxxLibraryPaths(
+        this.target,
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NewPrebuiltCxxLibraryPaths} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NewPrebuiltCxxLibraryPaths
+        && equalTo((NewPrebuiltCxxLibraryPaths) another);
+  }
+
+  private boolean equalTo(NewPrebuiltCxxLibraryPaths another) {
+    return target.equals(another.target)
+        && Objects.equals(headerDirs, another.headerDirs)
+        && Objects.equals(platformHeaderDirs, another.platformHeaderDirs)
+        && Objects.equals(versionedHeaderDirs, another.versionedHeaderDirs)
+        && Objects.equals(sharedLib, another.sharedLib)
+        && Objects.equals(platformSharedLib, another.platformSharedLib)
+        && Objects.equals(versionedSharedLib, another.versionedSharedLib)
+        && Objects.equals(staticLib, another.staticLib)
+        && Objects.equals(platformStaticLib, another.platformStaticLib)
+        && Objects.equals(versionedStaticLib, another.versionedStaticLib)
+        && Objects.equals(staticPicLib, another.staticPicLib)
+        && Objects.equals(platformStaticPicLib, another.platformStaticPicLib)
+        && Objects.equals(versionedStaticPicLib, another.versionedStaticPicLib);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code target}, {@code headerDirs}, {@code platformHeaderDirs}, {@code versionedHeaderDirs}, {@code sharedLib}, {@code platformSharedLib}, {@code versionedSharedLib}, {@code staticLib}, {@code platformStaticLib}, {@code versionedStaticLib}, {@code staticPicLib}, {@code platformStaticPicLib}, {@code versionedStaticPicLib}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + target.hashCode();
+    h += (h << 5) + Objects.hashCode(headerDirs);
+    h += (h << 5) + Objects.hashCode(platformHeaderDirs);
+    h += (h << 5) + Objects.hashCode(versionedHeaderDirs);
+    h += (h << 5) + Objects.hashCode(sharedLib);
+    h += (h << 5) + Objects.hashCode(platformSharedLib);
+    h += (h << 5) + Objects.hashCode(versionedSharedLib);
+    h += (h << 5) + Objects.hashCode(staticLib);
+    h += (h << 5) + Objects.hashCode(platformStaticLib);
+    h += (h << 5) + Objects.hashCode(versionedStaticLib);
+    h += (h << 5) + Objects.hashCode(staticPicLib);
+    h += (h << 5) + Objects.hashCode(platformStaticPicLib);
+    h += (h << 5) + Objects.hashCode(versionedStaticPicLib);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NewPrebuiltCxxLibraryPaths} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NewPrebuiltCxxLibraryPaths")
+        .omitNullValues()
+        .add("target", target)
+        .add("headerDirs", headerDirs)
+        .add("platformHeaderDirs", platformHeaderDirs)
+        .add("versionedHeaderDirs", versionedHeaderDirs)
+        .add("sharedLib", sharedLib)
+        .add("platformSharedLib", platformSharedLib)
+        .add("versionedSharedLib", versionedSharedLib)
+        .add("staticLib", staticLib)
+        .add("platformStaticLib", platformStaticLib)
+        .add("versionedStaticLib", versionedStaticLib)
+        .add("staticPicLib", staticPicLib)
+        .add("platformStaticPicLib", platformStaticPicLib)
+        .add("versionedStaticPicLib", versionedStaticPicLib)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractNewPrebuiltCxxLibraryPaths} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable NewPrebuiltCxxLibraryPaths instance
+   */
+  static NewPrebuiltCxxLibraryPaths copyOf(AbstractNewPrebuiltCxxLibraryPaths instance) {
+    if (instance instanceof NewPrebuiltCxxLibraryPaths) {
+      return (NewPrebuiltCxxLibraryPaths) instance;
+    }
+    return NewPrebuiltCxxLibraryPaths.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link NewPrebuiltCxxLibraryPaths NewPrebuiltCxxLibraryPaths}.
+   * @return A new NewPrebuiltCxxLibraryPaths builder
+   */
+  public static NewPrebuiltCxxLibraryPaths.Builder builder() {
+    return new NewPrebuiltCxxLibraryPaths.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link NewPrebuiltCxxLibraryPaths NewPrebuiltCxxLibraryPaths}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TARGET = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable BuildTarget target;
+    private @Nullable ImmutableList<SourcePath> headerDirs;
+    private @Nullable PatternMatchedCollection<ImmutableList<SourcePath>> platformHeaderDirs;
+    private @Nullable VersionMatchedCollection<ImmutableList<SourcePath>> versionedHeaderDirs;
+    private @Nullable SourcePath sharedLib;
+    private @Nullable PatternMatchedCollection<SourcePath> platformSharedLib;
+    private @Nullable VersionMatchedCollection<SourcePath> versionedSharedLib;
+    private @Nullable SourcePath staticLib;
+    private @Nullable PatternMatchedCollection<SourcePath> platformStaticLib;
+    private @Nullable VersionMatchedCollection<SourcePath> versionedStaticLib;
+    private @Nullable SourcePath staticPicLib;
+    private @Nullable PatternMatchedCollection<SourcePath> platformStaticPicLib;
+    private @Nullable VersionMatchedCollection<SourcePath> versionedStaticPicLib;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NewPrebuiltCxxLibraryPaths} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(NewPrebuiltCxxLibraryPaths instance) {
+      return from((AbstractNewPrebuiltCxxLibraryPaths) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractNewPrebuiltCxxLibraryPaths} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractNewPrebuiltCxxLibraryPaths instance) {
+      Objects.requireNonNull(instance, "instance");
+      setTarget(instance.getTarget());
+      Optional<ImmutableList<SourcePath>> headerDirsOptional = instance.getHeaderDirs();
+      if (headerDirsOptional.isPresent()) {
+        setHeaderDirs(headerDirsOptional);
+      }
+      Optional<PatternMatchedCollection<ImmutableList<SourcePath>>> platformHeaderDirsOptional = instance.getPlatformHeaderDirs();
+      if (platformHeaderDirsOptional.isPresent()) {
+        setPlatformHeaderDirs(platformHeaderDirsOptional);
+      }
+      Optional<VersionMatchedCollection<ImmutableList<SourcePath>>> versionedHeaderDirsOptional = instance.getVersionedHeaderDirs();
+      if (versionedHeaderDirsOptional.isPresent()) {
+        setVersionedHeaderDirs(versionedHeaderDirsOptional);
+      }
+      Optional<SourcePath> sharedLibOptional = instance.getSharedLib();
+      if (sharedLibOptional.isPresent()) {
+        setSharedLib(sharedLibOptional);
+      }
+      Optional<PatternMatchedCollection<SourcePath>> platformSharedLibOptional = instance.getPlatformSharedLib();
+      if (platformSharedLibOptional.isPresent()) {
+        setPlatformSharedLib(platformSharedLibOptional);
+      }
+      Optional<VersionMatchedCollection<SourcePath>> versionedSharedLibOptional = instance.getVersionedSharedLib();
+      if (versionedSharedLibOptional.isPresent()) {
+        setVersionedSharedLib(versionedSharedLibOptional);
+      }
+      Optional<SourcePath> staticLibOptional = instance.getStaticLib();
+      if (staticLibOptional.isPresent()) {
+        setStaticLib(staticLibOptional);
+      }
+      Optional<PatternMatchedCollection<SourcePath>> platformStaticLibOptional = instance.getPlatformStaticLib();
+      if (platformStaticLibOptional.isPresent()) {
+        setPlatformStaticLib(platformStaticLibOptional);
+      }
+      Optional<VersionMatchedCollection<SourcePath>> versionedStaticLibOptional = instance.getVersionedStaticLib();
+      if (versionedStaticLibOptional.isPresent()) {
+        setVersionedStaticLib(versionedStaticLibOptional);
+      }
+      Optional<SourcePath> staticPicLibOptional = instance.getStaticPicLib();
+      if (staticPicLibOptional.isPresent()) {
+        setStaticPicLib(staticPicLibOptional);
+      }
+      Optional<PatternMatchedCollection<SourcePath>> platformStaticPicLibOptional = instance.getPlatformStaticPicLib();
+      if (platformStaticPicLibOptional.isPresent()) {
+        setPlatformStaticPicLib(platformStaticPicLibOptional);
+      }
+      Optional<VersionMatchedCollection<SourcePath>> versionedStaticPicLibOptional = instance.getVersionedStaticPicLib();
+      if (versionedStaticPicLibOptional.isPresent()) {
+        setVersionedStaticPicLib(versionedStaticPicLibOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractNewPrebuiltCxxLibraryPaths#getTarget() target} attribute.
+     * @param target The value for target 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTarget(BuildTarget target) {
+      this.target = Objects.requireNonNull(target, "target");
+      initBits &= ~INIT_BIT_TARGET;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getHeaderDirs() headerDirs} to headerDirs.
+     * @param headerDirs The value for headerDirs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setHeaderDirs(ImmutableList<SourcePath> headerDirs) {
+      this.headerDirs = Objects.requireNonNull(headerDirs, "headerDirs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getHeaderDirs() headerDirs} to headerDirs.
+     * @param headerDirs The value for headerDirs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHeaderDirs(Optional<? extends ImmutableList<SourcePath>> headerDirs) {
+      this.headerDirs = headerDirs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getPlatformHeaderDirs() platformHeaderDirs} to platformHeaderDirs.
+     * @param platformHeaderDirs The value for platformHeaderDirs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPlatformHeaderDirs(PatternMatchedCollection<ImmutableList<SourcePath>> platformHeaderDirs) {
+      this.platformHeaderDirs = Objects.requireNonNull(platformHeaderDirs, "platformHeaderDirs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getPlatformHeaderDirs() platformHeaderDirs} to platformHeaderDirs.
+     * @param platformHeaderDirs The value for platformHeaderDirs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformHeaderDirs(Optional<? extends PatternMatchedCollection<ImmutableList<SourcePath>>> platformHeaderDirs) {
+      this.platformHeaderDirs = platformHeaderDirs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getVersionedHeaderDirs() versionedHeaderDirs} to versionedHeaderDirs.
+     * @param versionedHeaderDirs The value for versionedHeaderDirs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionedHeaderDirs(VersionMatchedCollection<ImmutableList<SourcePath>> versionedHeaderDirs) {
+      this.versionedHeaderDirs = Objects.requireNonNull(versionedHeaderDirs, "versionedHeaderDirs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getVersionedHeaderDirs() versionedHeaderDirs} to versionedHeaderDirs.
+     * @param versionedHeaderDirs The value for versionedHeaderDirs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionedHeaderDirs(Optional<? extends VersionMatchedCollection<ImmutableList<SourcePath>>> versionedHeaderDirs) {
+      this.versionedHeaderDirs = versionedHeaderDirs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getSharedLib() sharedLib} to sharedLib.
+     * @param sharedLib The value for sharedLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSharedLib(SourcePath sharedLib) {
+      this.sharedLib = Objects.requireNonNull(sharedLib, "sharedLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getSharedLib() sharedLib} to sharedLib.
+     * @param sharedLib The value for sharedLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSharedLib(Optional<? extends SourcePath> sharedLib) {
+      this.sharedLib = sharedLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getPlatformSharedLib() platformSharedLib} to platformSharedLib.
+     * @param platformSharedLib The value for platformSharedLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPlatformSharedLib(PatternMatchedCollection<SourcePath> platformSharedLib) {
+      this.platformSharedLib = Objects.requireNonNull(platformSharedLib, "platformSharedLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getPlatformSharedLib() platformSharedLib} to platformSharedLib.
+     * @param platformSharedLib The value for platformSharedLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformSharedLib(Optional<? extends PatternMatchedCollection<SourcePath>> platformSharedLib) {
+      this.platformSharedLib = platformSharedLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getVersionedSharedLib() versionedSharedLib} to versionedSharedLib.
+     * @param versionedSharedLib The value for versionedSharedLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionedSharedLib(VersionMatchedCollection<SourcePath> versionedSharedLib) {
+      this.versionedSharedLib = Objects.requireNonNull(versionedSharedLib, "versionedSharedLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getVersionedSharedLib() versionedSharedLib} to versionedSharedLib.
+     * @param versionedSharedLib The value for versionedSharedLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionedSharedLib(Optional<? extends VersionMatchedCollection<SourcePath>> versionedSharedLib) {
+      this.versionedSharedLib = versionedSharedLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getStaticLib() staticLib} to staticLib.
+     * @param staticLib The value for staticLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStaticLib(SourcePath staticLib) {
+      this.staticLib = Objects.requireNonNull(staticLib, "staticLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getStaticLib() staticLib} to staticLib.
+     * @param staticLib The value for staticLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStaticLib(Optional<? extends SourcePath> staticLib) {
+      this.staticLib = staticLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getPlatformStaticLib() platformStaticLib} to platformStaticLib.
+     * @param platformStaticLib The value for platformStaticLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPlatformStaticLib(PatternMatchedCollection<SourcePath> platformStaticLib) {
+      this.platformStaticLib = Objects.requireNonNull(platformStaticLib, "platformStaticLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getPlatformStaticLib() platformStaticLib} to platformStaticLib.
+     * @param platformStaticLib The value for platformStaticLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformStaticLib(Optional<? extends PatternMatchedCollection<SourcePath>> platformStaticLib) {
+      this.platformStaticLib = platformStaticLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getVersionedStaticLib() versionedStaticLib} to versionedStaticLib.
+     * @param versionedStaticLib The value for versionedStaticLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionedStaticLib(VersionMatchedCollection<SourcePath> versionedStaticLib) {
+      this.versionedStaticLib = Objects.requireNonNull(versionedStaticLib, "versionedStaticLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getVersionedStaticLib() versionedStaticLib} to versionedStaticLib.
+     * @param versionedStaticLib The value for versionedStaticLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionedStaticLib(Optional<? extends VersionMatchedCollection<SourcePath>> versionedStaticLib) {
+      this.versionedStaticLib = versionedStaticLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getStaticPicLib() staticPicLib} to staticPicLib.
+     * @param staticPicLib The value for staticPicLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStaticPicLib(SourcePath staticPicLib) {
+      this.staticPicLib = Objects.requireNonNull(staticPicLib, "staticPicLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getStaticPicLib() staticPicLib} to staticPicLib.
+     * @param staticPicLib The value for staticPicLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStaticPicLib(Optional<? extends SourcePath> staticPicLib) {
+      this.staticPicLib = staticPicLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getPlatformStaticPicLib() platformStaticPicLib} to platformStaticPicLib.
+     * @param platformStaticPicLib The value for platformStaticPicLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPlatformStaticPicLib(PatternMatchedCollection<SourcePath> platformStaticPicLib) {
+      this.platformStaticPicLib = Objects.requireNonNull(platformStaticPicLib, "platformStaticPicLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getPlatformStaticPicLib() platformStaticPicLib} to platformStaticPicLib.
+     * @param platformStaticPicLib The value for platformStaticPicLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformStaticPicLib(Optional<? extends PatternMatchedCollection<SourcePath>> platformStaticPicLib) {
+      this.platformStaticPicLib = platformStaticPicLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getVersionedStaticPicLib() versionedStaticPicLib} to versionedStaticPicLib.
+     * @param versionedStaticPicLib The value for versionedStaticPicLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionedStaticPicLib(VersionMatchedCollection<SourcePath> versionedStaticPicLib) {
+      this.versionedStaticPicLib = Objects.requireNonNull(versionedStaticPicLib, "versionedStaticPicLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNewPrebuiltCxxLibraryPaths#getVersionedStaticPicLib() versionedStaticPicLib} to versionedStaticPicLib.
+     * @param versionedStaticPicLib The value for versionedStaticPicLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionedStaticPicLib(Optional<? extends VersionMatchedCollection<SourcePath>> versionedStaticPicLib) {
+      this.versionedStaticPicLib = versionedStaticPicLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link NewPrebuiltCxxLibraryPaths NewPrebuiltCxxLibraryPaths}.
+     * @return An immutable instance of NewPrebuiltCxxLibraryPaths
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NewPrebuiltCxxLibraryPaths build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new NewPrebuiltCxxLibraryPaths(
+          target,
+          headerDirs,
+          platformHeaderDirs,
+          versionedHeaderDirs,
+          sharedLib,
+          platformSharedLib,
+          versionedSharedLib,
+          staticLib,
+          platformStaticLib,
+          versionedStaticLib,
+          staticPicLib,
+          platformStaticPicLib,
+          versionedStaticPicLib);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TARGET) != 0) attributes.add("target");
+      return "Cannot build NewPrebuiltCxxLibraryPaths, some of required attributes are not set " + attributes;
+    }
+  }
+}
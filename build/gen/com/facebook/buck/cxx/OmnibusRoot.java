@@ -0,0 +1,197 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link Omnibus.AbstractOmnibusRoot}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code OmnibusRoot.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code OmnibusRoot.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "Omnibus.AbstractOmnibusRoot"})
+@Immutable
+public final class OmnibusRoot implements Omnibus.AbstractOmnibusRoot {
+  private final SourcePath path;
+
+  private OmnibusRoot(SourcePath path) {
+    this.path = Objects.requireNonNull(path, "path");
+  }
+
+  private OmnibusRoot(OmnibusRoot original, SourcePath path) {
+    this.path = path;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public SourcePath getPath() {
+    return path;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link Omnibus.AbstractOmnibusRoot#getPath() path} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final OmnibusRoot withPath(SourcePath value) {
+    if (this.path == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "path");
+    return new OmnibusRoot(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code OmnibusRoot} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof OmnibusRoot
+        && equalTo((OmnibusRoot) another);
+  }
+
+  private boolean equalTo(OmnibusRoot another) {
+    return path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code OmnibusRoot} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OmnibusRoot")
+        .omitNullValues()
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code OmnibusRoot} instance.
+   * @param path The value for the {@code path} attribute
+   * @return An immutable OmnibusRoot instance
+   */
+  public static OmnibusRoot of(SourcePath path) {
+    return new OmnibusRoot(path);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link Omnibus.AbstractOmnibusRoot} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable OmnibusRoot instance
+   */
+  static OmnibusRoot copyOf(Omnibus.AbstractOmnibusRoot instance) {
+    if (instance instanceof OmnibusRoot) {
+      return (OmnibusRoot) instance;
+    }
+    return OmnibusRoot.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link OmnibusRoot OmnibusRoot}.
+   * @return A new OmnibusRoot builder
+   */
+  public static OmnibusRoot.Builder builder() {
+    return new OmnibusRoot.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link OmnibusRoot OmnibusRoot}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PATH = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable SourcePath path;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code OmnibusRoot} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(OmnibusRoot instance) {
+      return from((Omnibus.AbstractOmnibusRoot) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractOmnibusRoot} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(Omnibus.AbstractOmnibusRoot instance) {
+      Objects.requireNonNull(instance, "instance");
+      setPath(instance.getPath());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link Omnibus.AbstractOmnibusRoot#getPath() path} attribute.
+     * @param path The value for path 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPath(SourcePath path) {
+      this.path = Objects.requireNonNull(path, "path");
+      initBits &= ~INIT_BIT_PATH;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link OmnibusRoot OmnibusRoot}.
+     * @return An immutable instance of OmnibusRoot
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public OmnibusRoot build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new OmnibusRoot(null, path);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_PATH) != 0) attributes.add("path");
+      return "Cannot build OmnibusRoot, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkTarget;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A helper class for building the included and excluded omnibus roots to pass to the omnibus
+ * builder.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractOmnibusRoots"})
+@Immutable
+public final class OmnibusRoots extends AbstractOmnibusRoots {
+  private final ImmutableMap<BuildTarget, NativeLinkTarget> includedRoots;
+  private final ImmutableMap<BuildTarget, NativeLinkable> excludedRoots;
+
+  private OmnibusRoots(
+      Map<? extends BuildTarget, ? extends NativeLinkTarget> includedRoots,
+      Map<? extends BuildTarget, ? extends NativeLinkable> excludedRoots) {
+    this.includedRoots = ImmutableMap.copyOf(includedRoots);
+    this.excludedRoots = ImmutableMap.copyOf(excludedRoots);
+  }
+
+  private OmnibusRoots(
+      OmnibusRoots original,
+      ImmutableMap<BuildTarget, NativeLinkTarget> includedRoots,
+      ImmutableMap<BuildTarget, NativeLinkable> excludedRoots) {
+    this.includedRoots = includedRoots;
+    this.excludedRoots = excludedRoots;
+  }
+
+  /**
+   *@return the {@link NativeLinkTarget} roots that are included in omnibus linking. 
+   */
+  @Override
+  public ImmutableMap<BuildTarget, NativeLinkTarget> getIncludedRoots() {
+    return includedRoots;
+  }
+
+  /**
+   *@return the {@link NativeLinkable} roots that are excluded from omnibus linking. 
+   */
+  @Override
+  public ImmutableMap<BuildTarget, NativeLinkable> getExcludedRoots() {
+    return excludedRoots;
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractOmnibusRoots#getIncludedRoots() includedRoots} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the includedRoots map
+   * @return A modified copy of {@code this} object
+   */
+  public final OmnibusRoots withIncludedRoots(Map<? extends BuildTarget, ? extends NativeLinkTarget> entries) {
+    if (this.includedRoots == entries) return this;
+    ImmutableMap<BuildTarget, NativeLinkTarget> newValue = ImmutableMap.copyOf(entries);
+    return new OmnibusRoots(this, newValue, this.excludedRoots);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractOmnibusRoots#getExcludedRoots() excludedRoots} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the excludedRoots map
+   * @return A modified copy of {@code this} object
+   */
+  public final OmnibusRoots withExcludedRoots(Map<? extends BuildTarget, ? extends NativeLinkable> entries) {
+    if (this.excludedRoots == entries) return this;
+    ImmutableMap<BuildTarget, NativeLinkable> newValue = ImmutableMap.copyOf(entries);
+    return new OmnibusRoots(this, this.includedRoots, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code OmnibusRoots} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof OmnibusRoots
+        && equalTo((OmnibusRoots) another);
+  }
+
+  private boolean equalTo(OmnibusRoots another) {
+    return includedRoots.equals(another.includedRoots)
+        && excludedRoots.equals(another.excludedRoots);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code includedRoots}, {@code excludedRoots}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + includedRoots.hashCode();
+    h += (h << 5) + excludedRoots.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code OmnibusRoots} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OmnibusRoots")
+        .omitNullValues()
+        .add("includedRoots", includedRoots)
+        .add("excludedRoots", excludedRoots)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code OmnibusRoots} instance.
+   * @param includedRoots The value for the {@code includedRoots} attribute
+   * @param excludedRoots The value for the {@code excludedRoots} attribute
+   * @return An immutable OmnibusRoots instance
+   */
+  public static OmnibusRoots of(Map<? extends BuildTarget, ? extends NativeLinkTarget> includedRoots, Map<? extends BuildTarget, ? extends NativeLinkable> excludedRoots) {
+    return new OmnibusRoots(includedRoots, excludedRoots);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractOmnibusRoots} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable OmnibusRoots instance
+   */
+  static OmnibusRoots copyOf(AbstractOmnibusRoots instance) {
+    if (instance instanceof OmnibusRoots) {
+      return (OmnibusRoots) instance;
+    }
+    return OmnibusRoots.of(instance.getIncludedRoots(), instance.getExcludedRoots());
+  }
+}
@@ -0,0 +1,1734 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PrebuiltCxxLibraryGroupDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg"})
+@Immutable
+public final class PrebuiltCxxLibraryGroupDescriptionArg
+    implements AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg {
+  private final ImmutableList<String> exportedPreprocessorFlags;
+  private final ImmutableList<SourcePath> includeDirs;
+  private final ImmutableList<String> staticLink;
+  private final ImmutableList<SourcePath> staticLibs;
+  private final ImmutableList<String> staticPicLink;
+  private final ImmutableList<SourcePath> staticPicLibs;
+  private final ImmutableList<String> sharedLink;
+  private final ImmutableMap<String, SourcePath> sharedLibs;
+  private final ImmutableMap<String, SourcePath> providedSharedLibs;
+  private final ImmutableSortedSet<BuildTarget> exportedDeps;
+  private final @Nullable Pattern supportedPlatformsRegex;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSet<SourcePath> licenses;
+  private final String name;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private PrebuiltCxxLibraryGroupDescriptionArg(
+      ImmutableList<String> exportedPreprocessorFlags,
+      ImmutableList<SourcePath> includeDirs,
+      ImmutableList<String> staticLink,
+      ImmutableList<SourcePath> staticLibs,
+      ImmutableList<String> staticPicLink,
+      ImmutableList<SourcePath> staticPicLibs,
+      ImmutableList<String> sharedLink,
+      ImmutableMap<String, SourcePath> sharedLibs,
+      ImmutableMap<String, SourcePath> providedSharedLibs,
+      ImmutableSortedSet<BuildTarget> exportedDeps,
+      @Nullable Pattern supportedPlatformsRegex,
+      ImmutableSortedSet<String> labels,
+      ImmutableSet<SourcePath> licenses,
+      String name,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.exportedPreprocessorFlags = exportedPreprocessorFlags;
+    this.includeDirs = includeDirs;
+    this.staticLink = staticLink;
+    this.staticLibs = staticLibs;
+    this.staticPicLink = staticPicLink;
+    this.staticPicLibs = staticPicLibs;
+    this.sharedLink = sharedLink;
+    this.sharedLibs = sharedLibs;
+    this.providedSharedLibs = providedSharedLibs;
+    this.exportedDeps = exportedDeps;
+    this.supportedPlatformsRegex = supportedPlatformsRegex;
+    this.labels = labels;
+    this.licenses = licenses;
+    this.name = name;
+    this.deps = deps;
+  }
+
+  /**
+   * @return The value of the {@code exportedPreprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getExportedPreprocessorFlags() {
+    return exportedPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code includeDirs} attribute
+   */
+  @Override
+  public ImmutableList<SourcePath> getIncludeDirs() {
+    return includeDirs;
+  }
+
+  /**
+   *The link arguments to use when linking using the static link style. 
+   */
+  @Override
+  public ImmutableList<String> getStaticLink() {
+    return staticLink;
+  }
+
+  /**
+   *Libraries references in the static link args above. 
+   */
+  @Override
+  public ImmutableList<SourcePath> getStaticLibs() {
+    return staticLibs;
+  }
+
+  /**
+   *The link arguments to use when linking using the static-pic link style. 
+   */
+  @Override
+  public ImmutableList<String> getStaticPicLink() {
+    return staticPicLink;
+  }
+
+  /**
+   *Libraries references in the static-pic link args above. 
+   */
+  @Override
+  public ImmutableList<SourcePath> getStaticPicLibs() {
+    return staticPicLibs;
+  }
+
+  /**
+   *The link arguments to use when linking using the shared link style. 
+   */
+  @Override
+  public ImmutableList<String> getSharedLink() {
+    return sharedLink;
+  }
+
+  /**
+   *Libraries references in the shared link args above. 
+   */
+  @Override
+  public ImmutableMap<String, SourcePath> getSharedLibs() {
+    return sharedLibs;
+  }
+
+  /**
+   * @return The value of the {@code providedSharedLibs} attribute
+   */
+  @Override
+  public ImmutableMap<String, SourcePath> getProvidedSharedLibs() {
+    return providedSharedLibs;
+  }
+
+  /**
+   * @return The value of the {@code exportedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getExportedDeps() {
+    return exportedDeps;
+  }
+
+  /**
+   * @return The value of the {@code supportedPlatformsRegex} attribute
+   */
+  @Override
+  public Optional<Pattern> getSupportedPlatformsRegex() {
+    return Optional.ofNullable(supportedPlatformsRegex);
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withExportedPreprocessorFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        newValue,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedPreprocessorFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withExportedPreprocessorFlags(Iterable<String> elements) {
+    if (this.exportedPreprocessorFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        newValue,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getIncludeDirs() includeDirs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withIncludeDirs(SourcePath... elements) {
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        newValue,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getIncludeDirs() includeDirs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of includeDirs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withIncludeDirs(Iterable<? extends SourcePath> elements) {
+    if (this.includeDirs == elements) return this;
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        newValue,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticLink() staticLink}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withStaticLink(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        newValue,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticLink() staticLink}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of staticLink elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withStaticLink(Iterable<String> elements) {
+    if (this.staticLink == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        newValue,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticLibs() staticLibs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withStaticLibs(SourcePath... elements) {
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        newValue,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticLibs() staticLibs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of staticLibs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withStaticLibs(Iterable<? extends SourcePath> elements) {
+    if (this.staticLibs == elements) return this;
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        newValue,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLink() staticPicLink}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withStaticPicLink(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        newValue,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLink() staticPicLink}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of staticPicLink elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withStaticPicLink(Iterable<String> elements) {
+    if (this.staticPicLink == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        newValue,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLibs() staticPicLibs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withStaticPicLibs(SourcePath... elements) {
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        newValue,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLibs() staticPicLibs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of staticPicLibs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withStaticPicLibs(Iterable<? extends SourcePath> elements) {
+    if (this.staticPicLibs == elements) return this;
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        newValue,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getSharedLink() sharedLink}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withSharedLink(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        newValue,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getSharedLink() sharedLink}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of sharedLink elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withSharedLink(Iterable<String> elements) {
+    if (this.sharedLink == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        newValue,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getSharedLibs() sharedLibs} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the sharedLibs map
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withSharedLibs(Map<String, ? extends SourcePath> entries) {
+    if (this.sharedLibs == entries) return this;
+    ImmutableMap<String, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        newValue,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getProvidedSharedLibs() providedSharedLibs} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the providedSharedLibs map
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withProvidedSharedLibs(Map<String, ? extends SourcePath> entries) {
+    if (this.providedSharedLibs == entries) return this;
+    ImmutableMap<String, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        newValue,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getExportedDeps() exportedDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withExportedDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        newValue,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getExportedDeps() exportedDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withExportedDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.exportedDeps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        newValue,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} attribute.
+   * @param value The value for supportedPlatformsRegex
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withSupportedPlatformsRegex(Pattern value) {
+    @Nullable Pattern newValue = Objects.requireNonNull(value, "supportedPlatformsRegex");
+    if (this.supportedPlatformsRegex == newValue) return this;
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        newValue,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for supportedPlatformsRegex
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withSupportedPlatformsRegex(Optional<? extends Pattern> optional) {
+    @Nullable Pattern value = optional.orElse(null);
+    if (this.supportedPlatformsRegex == value) return this;
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        value,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        newValue,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        newValue,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        newValue,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        newValue,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryGroupDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new PrebuiltCxxLibraryGroupDescriptionArg(
+        this.exportedPreprocessorFlags,
+        this.includeDirs,
+        this.staticLink,
+        this.staticLibs,
+        this.staticPicLink,
+        this.staticPicLibs,
+        this.sharedLink,
+        this.sharedLibs,
+        this.providedSharedLibs,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.labels,
+        this.licenses,
+        this.name,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PrebuiltCxxLibraryGroupDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PrebuiltCxxLibraryGroupDescriptionArg
+        && equalTo((PrebuiltCxxLibraryGroupDescriptionArg) another);
+  }
+
+  private boolean equalTo(PrebuiltCxxLibraryGroupDescriptionArg another) {
+    return exportedPreprocessorFlags.equals(another.exportedPreprocessorFlags)
+        && includeDirs.equals(another.includeDirs)
+        && staticLink.equals(another.staticLink)
+        && staticLibs.equals(another.staticLibs)
+        && staticPicLink.equals(another.staticPicLink)
+        && staticPicLibs.equals(another.staticPicLibs)
+        && sharedLink.equals(another.sharedLink)
+        && sharedLibs.equals(another.sharedLibs)
+        && providedSharedLibs.equals(another.providedSharedLibs)
+        && exportedDeps.equals(another.exportedDeps)
+        && Objects.equals(supportedPlatformsRegex, another.supportedPlatformsRegex)
+        && labels.equals(another.labels)
+        && licenses.equals(another.licenses)
+        && name.equals(another.name)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code exportedPreprocessorFlags}, {@code includeDirs}, {@code staticLink}, {@code staticLibs}, {@code staticPicLink}, {@code staticPicLibs}, {@code sharedLink}, {@code sharedLibs}, {@code providedSharedLibs}, {@code exportedDeps}, {@code supportedPlatformsRegex}, {@code labels}, {@code licenses}, {@code name}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + exportedPreprocessorFlags.hashCode();
+    h += (h << 5) + includeDirs.hashCode();
+    h += (h << 5) + staticLink.hashCode();
+    h += (h << 5) + staticLibs.hashCode();
+    h += (h << 5) + staticPicLink.hashCode();
+    h += (h << 5) + staticPicLibs.hashCode();
+    h += (h << 5) + sharedLink.hashCode();
+    h += (h << 5) + sharedLibs.hashCode();
+    h += (h << 5) + providedSharedLibs.hashCode();
+    h += (h << 5) + exportedDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(supportedPlatformsRegex);
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PrebuiltCxxLibraryGroupDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PrebuiltCxxLibraryGroupDescriptionArg")
+        .omitNullValues()
+        .add("exportedPreprocessorFlags", exportedPreprocessorFlags)
+        .add("includeDirs", includeDirs)
+        .add("staticLink", staticLink)
+        .add("staticLibs", staticLibs)
+        .add("staticPicLink", staticPicLink)
+        .add("staticPicLibs", staticPicLibs)
+        .add("sharedLink", sharedLink)
+        .add("sharedLibs", sharedLibs)
+        .add("providedSharedLibs", providedSharedLibs)
+        .add("exportedDeps", exportedDeps)
+        .add("supportedPlatformsRegex", supportedPlatformsRegex)
+        .add("labels", labels)
+        .add("licenses", licenses)
+        .add("name", name)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PrebuiltCxxLibraryGroupDescriptionArg instance
+   */
+  static PrebuiltCxxLibraryGroupDescriptionArg copyOf(AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg instance) {
+    if (instance instanceof PrebuiltCxxLibraryGroupDescriptionArg) {
+      return (PrebuiltCxxLibraryGroupDescriptionArg) instance;
+    }
+    return PrebuiltCxxLibraryGroupDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PrebuiltCxxLibraryGroupDescriptionArg PrebuiltCxxLibraryGroupDescriptionArg}.
+   * @return A new PrebuiltCxxLibraryGroupDescriptionArg builder
+   */
+  public static PrebuiltCxxLibraryGroupDescriptionArg.Builder builder() {
+    return new PrebuiltCxxLibraryGroupDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PrebuiltCxxLibraryGroupDescriptionArg PrebuiltCxxLibraryGroupDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableList.Builder<String> exportedPreprocessorFlags = ImmutableList.builder();
+    private ImmutableList.Builder<SourcePath> includeDirs = ImmutableList.builder();
+    private ImmutableList.Builder<String> staticLink = ImmutableList.builder();
+    private ImmutableList.Builder<SourcePath> staticLibs = ImmutableList.builder();
+    private ImmutableList.Builder<String> staticPicLink = ImmutableList.builder();
+    private ImmutableList.Builder<SourcePath> staticPicLibs = ImmutableList.builder();
+    private ImmutableList.Builder<String> sharedLink = ImmutableList.builder();
+    private ImmutableMap.Builder<String, SourcePath> sharedLibs = ImmutableMap.builder();
+    private ImmutableMap.Builder<String, SourcePath> providedSharedLibs = ImmutableMap.builder();
+    private ImmutableSortedSet.Builder<BuildTarget> exportedDeps = ImmutableSortedSet.naturalOrder();
+    private @Nullable Pattern supportedPlatformsRegex;
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private @Nullable String name;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PrebuiltCxxLibraryGroupDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PrebuiltCxxLibraryGroupDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPrebuiltCxxLibraryGroupDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg) {
+        AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg instance = (AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg) object;
+        addAllStaticPicLink(instance.getStaticPicLink());
+        addAllStaticLink(instance.getStaticLink());
+        addAllIncludeDirs(instance.getIncludeDirs());
+        putAllSharedLibs(instance.getSharedLibs());
+        Optional<Pattern> supportedPlatformsRegexOptional = instance.getSupportedPlatformsRegex();
+        if (supportedPlatformsRegexOptional.isPresent()) {
+          setSupportedPlatformsRegex(supportedPlatformsRegexOptional);
+        }
+        addAllStaticLibs(instance.getStaticLibs());
+        putAllProvidedSharedLibs(instance.getProvidedSharedLibs());
+        addAllStaticPicLibs(instance.getStaticPicLibs());
+        addAllExportedDeps(instance.getExportedDeps());
+        addAllSharedLink(instance.getSharedLink());
+        addAllExportedPreprocessorFlags(instance.getExportedPreprocessorFlags());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Adds one element to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param element A exportedPreprocessorFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedPreprocessorFlags(String element) {
+      this.exportedPreprocessorFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An array of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedPreprocessorFlags(String... elements) {
+      this.exportedPreprocessorFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An iterable of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedPreprocessorFlags(Iterable<String> elements) {
+      this.exportedPreprocessorFlags = ImmutableList.builder();
+      return addAllExportedPreprocessorFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An iterable of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExportedPreprocessorFlags(Iterable<String> elements) {
+      this.exportedPreprocessorFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getIncludeDirs() includeDirs} list.
+     * @param element A includeDirs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIncludeDirs(SourcePath element) {
+      this.includeDirs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getIncludeDirs() includeDirs} list.
+     * @param elements An array of includeDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIncludeDirs(SourcePath... elements) {
+      this.includeDirs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getIncludeDirs() includeDirs} list.
+     * @param elements An iterable of includeDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludeDirs(Iterable<? extends SourcePath> elements) {
+      this.includeDirs = ImmutableList.builder();
+      return addAllIncludeDirs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getIncludeDirs() includeDirs} list.
+     * @param elements An iterable of includeDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllIncludeDirs(Iterable<? extends SourcePath> elements) {
+      this.includeDirs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticLink() staticLink} list.
+     * @param element A staticLink element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addStaticLink(String element) {
+      this.staticLink.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticLink() staticLink} list.
+     * @param elements An array of staticLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addStaticLink(String... elements) {
+      this.staticLink.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticLink() staticLink} list.
+     * @param elements An iterable of staticLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStaticLink(Iterable<String> elements) {
+      this.staticLink = ImmutableList.builder();
+      return addAllStaticLink(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticLink() staticLink} list.
+     * @param elements An iterable of staticLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllStaticLink(Iterable<String> elements) {
+      this.staticLink.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticLibs() staticLibs} list.
+     * @param element A staticLibs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addStaticLibs(SourcePath element) {
+      this.staticLibs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticLibs() staticLibs} list.
+     * @param elements An array of staticLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addStaticLibs(SourcePath... elements) {
+      this.staticLibs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticLibs() staticLibs} list.
+     * @param elements An iterable of staticLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStaticLibs(Iterable<? extends SourcePath> elements) {
+      this.staticLibs = ImmutableList.builder();
+      return addAllStaticLibs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticLibs() staticLibs} list.
+     * @param elements An iterable of staticLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllStaticLibs(Iterable<? extends SourcePath> elements) {
+      this.staticLibs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLink() staticPicLink} list.
+     * @param element A staticPicLink element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addStaticPicLink(String element) {
+      this.staticPicLink.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLink() staticPicLink} list.
+     * @param elements An array of staticPicLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addStaticPicLink(String... elements) {
+      this.staticPicLink.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLink() staticPicLink} list.
+     * @param elements An iterable of staticPicLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStaticPicLink(Iterable<String> elements) {
+      this.staticPicLink = ImmutableList.builder();
+      return addAllStaticPicLink(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLink() staticPicLink} list.
+     * @param elements An iterable of staticPicLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllStaticPicLink(Iterable<String> elements) {
+      this.staticPicLink.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLibs() staticPicLibs} list.
+     * @param element A staticPicLibs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addStaticPicLibs(SourcePath element) {
+      this.staticPicLibs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLibs() staticPicLibs} list.
+     * @param elements An array of staticPicLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addStaticPicLibs(SourcePath... elements) {
+      this.staticPicLibs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLibs() staticPicLibs} list.
+     * @param elements An iterable of staticPicLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStaticPicLibs(Iterable<? extends SourcePath> elements) {
+      this.staticPicLibs = ImmutableList.builder();
+      return addAllStaticPicLibs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLibs() staticPicLibs} list.
+     * @param elements An iterable of staticPicLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllStaticPicLibs(Iterable<? extends SourcePath> elements) {
+      this.staticPicLibs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getSharedLink() sharedLink} list.
+     * @param element A sharedLink element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSharedLink(String element) {
+      this.sharedLink.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getSharedLink() sharedLink} list.
+     * @param elements An array of sharedLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSharedLink(String... elements) {
+      this.sharedLink.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getSharedLink() sharedLink} list.
+     * @param elements An iterable of sharedLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSharedLink(Iterable<String> elements) {
+      this.sharedLink = ImmutableList.builder();
+      return addAllSharedLink(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getSharedLink() sharedLink} list.
+     * @param elements An iterable of sharedLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSharedLink(Iterable<String> elements) {
+      this.sharedLink.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getSharedLibs() sharedLibs} map.
+     * @param key The key in the sharedLibs map
+     * @param value The associated value in the sharedLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putSharedLibs(String key, SourcePath value) {
+      this.sharedLibs.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getSharedLibs() sharedLibs} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putSharedLibs(Map.Entry<String, ? extends SourcePath> entry) {
+      this.sharedLibs.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getSharedLibs() sharedLibs} map. Nulls are not permitted
+     * @param sharedLibs The entries that will be added to the sharedLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSharedLibs(Map<String, ? extends SourcePath> sharedLibs) {
+      this.sharedLibs = ImmutableMap.builder();
+      return putAllSharedLibs(sharedLibs);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getSharedLibs() sharedLibs} map. Nulls are not permitted
+     * @param sharedLibs The entries that will be added to the sharedLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllSharedLibs(Map<String, ? extends SourcePath> sharedLibs) {
+      this.sharedLibs.putAll(sharedLibs);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getProvidedSharedLibs() providedSharedLibs} map.
+     * @param key The key in the providedSharedLibs map
+     * @param value The associated value in the providedSharedLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putProvidedSharedLibs(String key, SourcePath value) {
+      this.providedSharedLibs.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getProvidedSharedLibs() providedSharedLibs} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putProvidedSharedLibs(Map.Entry<String, ? extends SourcePath> entry) {
+      this.providedSharedLibs.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getProvidedSharedLibs() providedSharedLibs} map. Nulls are not permitted
+     * @param providedSharedLibs The entries that will be added to the providedSharedLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProvidedSharedLibs(Map<String, ? extends SourcePath> providedSharedLibs) {
+      this.providedSharedLibs = ImmutableMap.builder();
+      return putAllProvidedSharedLibs(providedSharedLibs);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getProvidedSharedLibs() providedSharedLibs} map. Nulls are not permitted
+     * @param providedSharedLibs The entries that will be added to the providedSharedLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllProvidedSharedLibs(Map<String, ? extends SourcePath> providedSharedLibs) {
+      this.providedSharedLibs.putAll(providedSharedLibs);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param element A exportedDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedDeps(BuildTarget element) {
+      this.exportedDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An array of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedDeps(BuildTarget... elements) {
+      this.exportedDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps = ImmutableSortedSet.naturalOrder();
+      return addAllExportedDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} to supportedPlatformsRegex.
+     * @param supportedPlatformsRegex The value for supportedPlatformsRegex
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSupportedPlatformsRegex(Pattern supportedPlatformsRegex) {
+      this.supportedPlatformsRegex = Objects.requireNonNull(supportedPlatformsRegex, "supportedPlatformsRegex");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} to supportedPlatformsRegex.
+     * @param supportedPlatformsRegex The value for supportedPlatformsRegex
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSupportedPlatformsRegex(Optional<? extends Pattern> supportedPlatformsRegex) {
+      this.supportedPlatformsRegex = supportedPlatformsRegex.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractPrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PrebuiltCxxLibraryGroupDescriptionArg PrebuiltCxxLibraryGroupDescriptionArg}.
+     * @return An immutable instance of PrebuiltCxxLibraryGroupDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PrebuiltCxxLibraryGroupDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PrebuiltCxxLibraryGroupDescriptionArg(
+          exportedPreprocessorFlags.build(),
+          includeDirs.build(),
+          staticLink.build(),
+          staticLibs.build(),
+          staticPicLink.build(),
+          staticPicLibs.build(),
+          sharedLink.build(),
+          sharedLibs.build(),
+          providedSharedLibs.build(),
+          exportedDeps.build(),
+          supportedPlatformsRegex,
+          labels.build(),
+          licenses.build(),
+          name,
+          deps.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build PrebuiltCxxLibraryGroupDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,378 @@
+package com.facebook.buck.cxx.toolchain;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link CxxBuckConfig.AbstractCxxToolProviderParams}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CxxToolProviderParams.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "CxxBuckConfig.AbstractCxxToolProviderParams"})
+@Immutable
+public final class CxxToolProviderParams
+    extends CxxBuckConfig.AbstractCxxToolProviderParams {
+  private final String source;
+  private final @Nullable BuildTarget buildTarget;
+  private final @Nullable Path path;
+  private final @Nullable CxxToolProvider.Type type;
+
+  private CxxToolProviderParams(
+      String source,
+      @Nullable BuildTarget buildTarget,
+      @Nullable Path path,
+      @Nullable CxxToolProvider.Type type) {
+    this.source = source;
+    this.buildTarget = buildTarget;
+    this.path = path;
+    this.type = type;
+  }
+
+  /**
+   * @return The value of the {@code source} attribute
+   */
+  @Override
+  public String getSource() {
+    return source;
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getBuildTarget() {
+    return Optional.ofNullable(buildTarget);
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public Optional<Path> getPath() {
+    return Optional.ofNullable(path);
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public Optional<CxxToolProvider.Type> getType() {
+    return Optional.ofNullable(type);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxBuckConfig.AbstractCxxToolProviderParams#getSource() source} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for source
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxToolProviderParams withSource(String value) {
+    if (this.source.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "source");
+    return validate(new CxxToolProviderParams(newValue, this.buildTarget, this.path, this.type));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxBuckConfig.AbstractCxxToolProviderParams#getBuildTarget() buildTarget} attribute.
+   * @param value The value for buildTarget
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxToolProviderParams withBuildTarget(BuildTarget value) {
+    @Nullable BuildTarget newValue = Objects.requireNonNull(value, "buildTarget");
+    if (this.buildTarget == newValue) return this;
+    return validate(new CxxToolProviderParams(this.source, newValue, this.path, this.type));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxBuckConfig.AbstractCxxToolProviderParams#getBuildTarget() buildTarget} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for buildTarget
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxToolProviderParams withBuildTarget(Optional<? extends BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.buildTarget == value) return this;
+    return validate(new CxxToolProviderParams(this.source, value, this.path, this.type));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxBuckConfig.AbstractCxxToolProviderParams#getPath() path} attribute.
+   * @param value The value for path
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxToolProviderParams withPath(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "path");
+    if (this.path == newValue) return this;
+    return validate(new CxxToolProviderParams(this.source, this.buildTarget, newValue, this.type));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxBuckConfig.AbstractCxxToolProviderParams#getPath() path} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for path
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxToolProviderParams withPath(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.path == value) return this;
+    return validate(new CxxToolProviderParams(this.source, this.buildTarget, value, this.type));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxBuckConfig.AbstractCxxToolProviderParams#getType() type} attribute.
+   * @param value The value for type
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxToolProviderParams withType(CxxToolProvider.Type value) {
+    @Nullable CxxToolProvider.Type newValue = Objects.requireNonNull(value, "type");
+    if (this.type == newValue) return this;
+    return validate(new CxxToolProviderParams(this.source, this.buildTarget, this.path, newValue));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxBuckConfig.AbstractCxxToolProviderParams#getType() type} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for type
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxToolProviderParams withType(Optional<? extends CxxToolProvider.Type> optional) {
+    @Nullable CxxToolProvider.Type value = optional.orElse(null);
+    if (Objects.equals(this.type, value)) return this;
+    return validate(new CxxToolProviderParams(this.source, this.buildTarget, this.path, value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxToolProviderParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxToolProviderParams
+        && equalTo((CxxToolProviderParams) another);
+  }
+
+  private boolean equalTo(CxxToolProviderParams another) {
+    return source.equals(another.source)
+        && Objects.equals(buildTarget, another.buildTarget)
+        && Objects.equals(path, another.path)
+        && Objects.equals(type, another.type);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code source}, {@code buildTarget}, {@code path}, {@code type}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + source.hashCode();
+    h += (h << 5) + Objects.hashCode(buildTarget);
+    h += (h << 5) + Objects.hashCode(path);
+    h += (h << 5) + Objects.hashCode(type);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxToolProviderParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxToolProviderParams")
+        .omitNullValues()
+        .add("source", source)
+        .add("buildTarget", buildTarget)
+        .add("path", path)
+        .add("type", type)
+        .toString();
+  }
+
+
+  private static CxxToolProviderParams validate(CxxToolProviderParams instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link CxxBuckConfig.AbstractCxxToolProviderParams} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxToolProviderParams instance
+   */
+  static CxxToolProviderParams copyOf(CxxBuckConfig.AbstractCxxToolProviderParams instance) {
+    if (instance instanceof CxxToolProviderParams) {
+      return (CxxToolProviderParams) instance;
+    }
+    return CxxToolProviderParams.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CxxToolProviderParams CxxToolProviderParams}.
+   * @return A new CxxToolProviderParams builder
+   */
+  public static CxxToolProviderParams.Builder builder() {
+    return new CxxToolProviderParams.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxToolProviderParams CxxToolProviderParams}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SOURCE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String source;
+    private @Nullable BuildTarget buildTarget;
+    private @Nullable Path path;
+    private @Nullable CxxToolProvider.Type type;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxToolProviderParams} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxToolProviderParams instance) {
+      return from((CxxBuckConfig.AbstractCxxToolProviderParams) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxToolProviderParams} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(CxxBuckConfig.AbstractCxxToolProviderParams instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSource(instance.getSource());
+      Optional<BuildTarget> buildTargetOptional = instance.getBuildTarget();
+      if (buildTargetOptional.isPresent()) {
+        setBuildTarget(buildTargetOptional);
+      }
+      Optional<Path> pathOptional = instance.getPath();
+      if (pathOptional.isPresent()) {
+        setPath(pathOptional);
+      }
+      Optional<CxxToolProvider.Type> typeOptional = instance.getType();
+      if (typeOptional.isPresent()) {
+        setType(typeOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxBuckConfig.AbstractCxxToolProviderParams#getSource() source} attribute.
+     * @param source The value for source 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSource(String source) {
+      this.source = Objects.requireNonNull(source, "source");
+      initBits &= ~INIT_BIT_SOURCE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link CxxBuckConfig.AbstractCxxToolProviderParams#getBuildTarget() buildTarget} to buildTarget.
+     * @param buildTarget The value for buildTarget
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildTarget(BuildTarget buildTarget) {
+      this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxBuckConfig.AbstractCxxToolProviderParams#getBuildTarget() buildTarget} to buildTarget.
+     * @param buildTarget The value for buildTarget
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildTarget(Optional<? extends BuildTarget> buildTarget) {
+      this.buildTarget = buildTarget.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxBuckConfig.AbstractCxxToolProviderParams#getPath() path} to path.
+     * @param path The value for path
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPath(Path path) {
+      this.path = Objects.requireNonNull(path, "path");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxBuckConfig.AbstractCxxToolProviderParams#getPath() path} to path.
+     * @param path The value for path
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPath(Optional<? extends Path> path) {
+      this.path = path.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxBuckConfig.AbstractCxxToolProviderParams#getType() type} to type.
+     * @param type The value for type
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setType(CxxToolProvider.Type type) {
+      this.type = Objects.requireNonNull(type, "type");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxBuckConfig.AbstractCxxToolProviderParams#getType() type} to type.
+     * @param type The value for type
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setType(Optional<? extends CxxToolProvider.Type> type) {
+      this.type = type.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxToolProviderParams CxxToolProviderParams}.
+     * @return An immutable instance of CxxToolProviderParams
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxToolProviderParams build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return CxxToolProviderParams.validate(new CxxToolProviderParams(source, buildTarget, path, type));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SOURCE) != 0) attributes.add("source");
+      return "Cannot build CxxToolProviderParams, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,403 @@
+package com.facebook.buck.cxx.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Defines how to handle headers that get included during the build but aren't explicitly tracked in
+ * any build files.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractHeaderVerification"})
+@Immutable
+public final class HeaderVerification extends AbstractHeaderVerification {
+  private final AbstractHeaderVerification.Mode mode;
+  private final ImmutableSortedSet<String> whitelist;
+  private final ImmutableSortedSet<String> platformWhitelist;
+  private final java.lang.Iterable<Pattern> whitelistPatterns;
+
+  private HeaderVerification(
+      AbstractHeaderVerification.Mode mode,
+      Iterable<String> whitelist,
+      Iterable<String> platformWhitelist) {
+    this.mode = Objects.requireNonNull(mode, "mode");
+    this.whitelist = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        whitelist);
+    this.platformWhitelist = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        platformWhitelist);
+    this.whitelistPatterns = Objects.requireNonNull(super.getWhitelistPatterns(), "whitelistPatterns");
+  }
+
+  private HeaderVerification(
+      HeaderVerification original,
+      AbstractHeaderVerification.Mode mode,
+      ImmutableSortedSet<String> whitelist,
+      ImmutableSortedSet<String> platformWhitelist) {
+    this.mode = mode;
+    this.whitelist = whitelist;
+    this.platformWhitelist = platformWhitelist;
+    this.whitelistPatterns = Objects.requireNonNull(super.getWhitelistPatterns(), "whitelistPatterns");
+  }
+
+  /**
+   * @return The value of the {@code mode} attribute
+   */
+  @Override
+  public AbstractHeaderVerification.Mode getMode() {
+    return mode;
+  }
+
+  /**
+   *@return a list of regexes which match headers which should be exempt from verification. 
+   */
+  @Override
+  public ImmutableSortedSet<String> getWhitelist() {
+    return whitelist;
+  }
+
+  /**
+   * @return a list of regexes which match headers from the platform SDK. The path for the platforms
+   *     might depend on the disk layout. Therefore, we don't want that one to be included in the
+   *     rule keys.
+   */
+  @Override
+  public ImmutableSortedSet<String> getPlatformWhitelist() {
+    return platformWhitelist;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code whitelistPatterns} attribute
+   */
+  @Override
+  public java.lang.Iterable<Pattern> getWhitelistPatterns() {
+    return whitelistPatterns;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHeaderVerification#getMode() mode} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for mode
+   * @return A modified copy of the {@code this} object
+   */
+  public final HeaderVerification withMode(AbstractHeaderVerification.Mode value) {
+    if (this.mode == value) return this;
+    AbstractHeaderVerification.Mode newValue = Objects.requireNonNull(value, "mode");
+    return new HeaderVerification(this, newValue, this.whitelist, this.platformWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHeaderVerification#getWhitelist() whitelist}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HeaderVerification withWhitelist(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new HeaderVerification(this, this.mode, newValue, this.platformWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHeaderVerification#getWhitelist() whitelist}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of whitelist elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HeaderVerification withWhitelist(Iterable<String> elements) {
+    if (this.whitelist == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new HeaderVerification(this, this.mode, newValue, this.platformWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHeaderVerification#getPlatformWhitelist() platformWhitelist}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HeaderVerification withPlatformWhitelist(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new HeaderVerification(this, this.mode, this.whitelist, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHeaderVerification#getPlatformWhitelist() platformWhitelist}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of platformWhitelist elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HeaderVerification withPlatformWhitelist(Iterable<String> elements) {
+    if (this.platformWhitelist == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new HeaderVerification(this, this.mode, this.whitelist, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HeaderVerification} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HeaderVerification
+        && equalTo((HeaderVerification) another);
+  }
+
+  private boolean equalTo(HeaderVerification another) {
+    return mode.equals(another.mode)
+        && whitelist.equals(another.whitelist)
+        && platformWhitelist.equals(another.platformWhitelist)
+        && whitelistPatterns.equals(another.whitelistPatterns);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code mode}, {@code whitelist}, {@code platformWhitelist}, {@code whitelistPatterns}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + mode.hashCode();
+    h += (h << 5) + whitelist.hashCode();
+    h += (h << 5) + platformWhitelist.hashCode();
+    h += (h << 5) + whitelistPatterns.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HeaderVerification} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HeaderVerification")
+        .omitNullValues()
+        .add("mode", mode)
+        .add("whitelist", whitelist)
+        .add("platformWhitelist", platformWhitelist)
+        .add("whitelistPatterns", whitelistPatterns)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code HeaderVerification} instance.
+   * @param mode The value for the {@code mode} attribute
+   * @param whitelist The value for the {@code whitelist} attribute
+   * @param platformWhitelist The value for the {@code platformWhitelist} attribute
+   * @return An immutable HeaderVerification instance
+   */
+  public static HeaderVerification of(AbstractHeaderVerification.Mode mode, ImmutableSortedSet<String> whitelist, ImmutableSortedSet<String> platformWhitelist) {
+    return of(mode, (Iterable<String>) whitelist, (Iterable<String>) platformWhitelist);
+  }
+
+  /**
+   * Construct a new immutable {@code HeaderVerification} instance.
+   * @param mode The value for the {@code mode} attribute
+   * @param whitelist The value for the {@code whitelist} attribute
+   * @param platformWhitelist The value for the {@code platformWhitelist} attribute
+   * @return An immutable HeaderVerification instance
+   */
+  public static HeaderVerification of(AbstractHeaderVerification.Mode mode, Iterable<String> whitelist, Iterable<String> platformWhitelist) {
+    return new HeaderVerification(mode, whitelist, platformWhitelist);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractHeaderVerification} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable HeaderVerification instance
+   */
+  static HeaderVerification copyOf(AbstractHeaderVerification instance) {
+    if (instance instanceof HeaderVerification) {
+      return (HeaderVerification) instance;
+    }
+    return HeaderVerification.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link HeaderVerification HeaderVerification}.
+   * @return A new HeaderVerification builder
+   */
+  public static HeaderVerification.Builder builder() {
+    return new HeaderVerification.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HeaderVerification HeaderVerification}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_MODE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable AbstractHeaderVerification.Mode mode;
+    private ImmutableSortedSet.Builder<String> whitelist = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<String> platformWhitelist = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HeaderVerification} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HeaderVerification instance) {
+      return from((AbstractHeaderVerification) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHeaderVerification} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractHeaderVerification instance) {
+      Objects.requireNonNull(instance, "instance");
+      setMode(instance.getMode());
+      addAllWhitelist(instance.getWhitelist());
+      addAllPlatformWhitelist(instance.getPlatformWhitelist());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractHeaderVerification#getMode() mode} attribute.
+     * @param mode The value for mode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMode(AbstractHeaderVerification.Mode mode) {
+      this.mode = Objects.requireNonNull(mode, "mode");
+      initBits &= ~INIT_BIT_MODE;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractHeaderVerification#getWhitelist() whitelist} sortedSet.
+     * @param element A whitelist element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addWhitelist(String element) {
+      this.whitelist.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractHeaderVerification#getWhitelist() whitelist} sortedSet.
+     * @param elements An array of whitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addWhitelist(String... elements) {
+      this.whitelist.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractHeaderVerification#getWhitelist() whitelist} sortedSet.
+     * @param elements An iterable of whitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWhitelist(Iterable<String> elements) {
+      this.whitelist = ImmutableSortedSet.naturalOrder();
+      return addAllWhitelist(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractHeaderVerification#getWhitelist() whitelist} sortedSet.
+     * @param elements An iterable of whitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllWhitelist(Iterable<String> elements) {
+      this.whitelist.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractHeaderVerification#getPlatformWhitelist() platformWhitelist} sortedSet.
+     * @param element A platformWhitelist element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPlatformWhitelist(String element) {
+      this.platformWhitelist.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractHeaderVerification#getPlatformWhitelist() platformWhitelist} sortedSet.
+     * @param elements An array of platformWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPlatformWhitelist(String... elements) {
+      this.platformWhitelist.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractHeaderVerification#getPlatformWhitelist() platformWhitelist} sortedSet.
+     * @param elements An iterable of platformWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformWhitelist(Iterable<String> elements) {
+      this.platformWhitelist = ImmutableSortedSet.naturalOrder();
+      return addAllPlatformWhitelist(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractHeaderVerification#getPlatformWhitelist() platformWhitelist} sortedSet.
+     * @param elements An iterable of platformWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPlatformWhitelist(Iterable<String> elements) {
+      this.platformWhitelist.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HeaderVerification HeaderVerification}.
+     * @return An immutable instance of HeaderVerification
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HeaderVerification build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new HeaderVerification(null, mode, whitelist.build(), platformWhitelist.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_MODE) != 0) attributes.add("mode");
+      return "Cannot build HeaderVerification, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,404 @@
+package com.facebook.buck.cxx.toolchain.nativelink;
+
+import com.facebook.buck.rules.args.Arg;
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A class containing inputs to be passed to the native linker. Dependencies (e.g. C++ libraries) of
+ * a top-level native linkable rule (e.g. C++ binary) can use this to contribute components to the
+ * final link.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNativeLinkableInput"})
+@Immutable
+public final class NativeLinkableInput
+    extends AbstractNativeLinkableInput {
+  private final ImmutableList<Arg> args;
+  private final ImmutableSet<FrameworkPath> frameworks;
+  private final ImmutableSet<FrameworkPath> libraries;
+
+  private NativeLinkableInput(
+      Iterable<? extends Arg> args,
+      Iterable<? extends FrameworkPath> frameworks,
+      Iterable<? extends FrameworkPath> libraries) {
+    this.args = ImmutableList.copyOf(args);
+    this.frameworks = ImmutableSet.copyOf(frameworks);
+    this.libraries = ImmutableSet.copyOf(libraries);
+  }
+
+  private NativeLinkableInput(
+      NativeLinkableInput original,
+      ImmutableList<Arg> args,
+      ImmutableSet<FrameworkPath> frameworks,
+      ImmutableSet<FrameworkPath> libraries) {
+    this.args = args;
+    this.frameworks = frameworks;
+    this.libraries = libraries;
+  }
+
+  /**
+   * @return The value of the {@code args} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getArgs() {
+    return args;
+  }
+
+  /**
+   * @return The value of the {@code frameworks} attribute
+   */
+  @Override
+  public ImmutableSet<FrameworkPath> getFrameworks() {
+    return frameworks;
+  }
+
+  /**
+   * @return The value of the {@code libraries} attribute
+   */
+  @Override
+  public ImmutableSet<FrameworkPath> getLibraries() {
+    return libraries;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractNativeLinkableInput#getArgs() args}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeLinkableInput withArgs(Arg... elements) {
+    ImmutableList<Arg> newValue = ImmutableList.copyOf(elements);
+    return new NativeLinkableInput(this, newValue, this.frameworks, this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractNativeLinkableInput#getArgs() args}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of args elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeLinkableInput withArgs(Iterable<? extends Arg> elements) {
+    if (this.args == elements) return this;
+    ImmutableList<Arg> newValue = ImmutableList.copyOf(elements);
+    return new NativeLinkableInput(this, newValue, this.frameworks, this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractNativeLinkableInput#getFrameworks() frameworks}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeLinkableInput withFrameworks(FrameworkPath... elements) {
+    ImmutableSet<FrameworkPath> newValue = ImmutableSet.copyOf(elements);
+    return new NativeLinkableInput(this, this.args, newValue, this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractNativeLinkableInput#getFrameworks() frameworks}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of frameworks elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeLinkableInput withFrameworks(Iterable<? extends FrameworkPath> elements) {
+    if (this.frameworks == elements) return this;
+    ImmutableSet<FrameworkPath> newValue = ImmutableSet.copyOf(elements);
+    return new NativeLinkableInput(this, this.args, newValue, this.libraries);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractNativeLinkableInput#getLibraries() libraries}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeLinkableInput withLibraries(FrameworkPath... elements) {
+    ImmutableSet<FrameworkPath> newValue = ImmutableSet.copyOf(elements);
+    return new NativeLinkableInput(this, this.args, this.frameworks, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractNativeLinkableInput#getLibraries() libraries}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of libraries elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeLinkableInput withLibraries(Iterable<? extends FrameworkPath> elements) {
+    if (this.libraries == elements) return this;
+    ImmutableSet<FrameworkPath> newValue = ImmutableSet.copyOf(elements);
+    return new NativeLinkableInput(this, this.args, this.frameworks, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NativeLinkableInput} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NativeLinkableInput
+        && equalTo((NativeLinkableInput) another);
+  }
+
+  private boolean equalTo(NativeLinkableInput another) {
+    return args.equals(another.args)
+        && frameworks.equals(another.frameworks)
+        && libraries.equals(another.libraries);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code args}, {@code frameworks}, {@code libraries}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + args.hashCode();
+    h += (h << 5) + frameworks.hashCode();
+    h += (h << 5) + libraries.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NativeLinkableInput} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NativeLinkableInput")
+        .omitNullValues()
+        .add("args", args)
+        .add("frameworks", frameworks)
+        .add("libraries", libraries)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NativeLinkableInput} instance.
+   * @param args The value for the {@code args} attribute
+   * @param frameworks The value for the {@code frameworks} attribute
+   * @param libraries The value for the {@code libraries} attribute
+   * @return An immutable NativeLinkableInput instance
+   */
+  public static NativeLinkableInput of(List<Arg> args, Set<FrameworkPath> frameworks, Set<FrameworkPath> libraries) {
+    return of((Iterable<? extends Arg>) args, (Iterable<? extends FrameworkPath>) frameworks, (Iterable<? extends FrameworkPath>) libraries);
+  }
+
+  /**
+   * Construct a new immutable {@code NativeLinkableInput} instance.
+   * @param args The value for the {@code args} attribute
+   * @param frameworks The value for the {@code frameworks} attribute
+   * @param libraries The value for the {@code libraries} attribute
+   * @return An immutable NativeLinkableInput instance
+   */
+  public static NativeLinkableInput of(Iterable<? extends Arg> args, Iterable<? extends FrameworkPath> frameworks, Iterable<? extends FrameworkPath> libraries) {
+    return new NativeLinkableInput(args, frameworks, libraries);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractNativeLinkableInput} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable NativeLinkableInput instance
+   */
+  static NativeLinkableInput copyOf(AbstractNativeLinkableInput instance) {
+    if (instance instanceof NativeLinkableInput) {
+      return (NativeLinkableInput) instance;
+    }
+    return NativeLinkableInput.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link NativeLinkableInput NativeLinkableInput}.
+   * @return A new NativeLinkableInput builder
+   */
+  public static NativeLinkableInput.Builder builder() {
+    return new NativeLinkableInput.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link NativeLinkableInput NativeLinkableInput}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableList.Builder<Arg> args = ImmutableList.builder();
+    private ImmutableSet.Builder<FrameworkPath> frameworks = ImmutableSet.builder();
+    private ImmutableSet.Builder<FrameworkPath> libraries = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NativeLinkableInput} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(NativeLinkableInput instance) {
+      return from((AbstractNativeLinkableInput) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractNativeLinkableInput} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractNativeLinkableInput instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllArgs(instance.getArgs());
+      addAllFrameworks(instance.getFrameworks());
+      addAllLibraries(instance.getLibraries());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractNativeLinkableInput#getArgs() args} list.
+     * @param element A args element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addArgs(Arg element) {
+      this.args.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractNativeLinkableInput#getArgs() args} list.
+     * @param elements An array of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addArgs(Arg... elements) {
+      this.args.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractNativeLinkableInput#getArgs() args} list.
+     * @param elements An iterable of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setArgs(Iterable<? extends Arg> elements) {
+      this.args = ImmutableList.builder();
+      return addAllArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractNativeLinkableInput#getArgs() args} list.
+     * @param elements An iterable of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllArgs(Iterable<? extends Arg> elements) {
+      this.args.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractNativeLinkableInput#getFrameworks() frameworks} set.
+     * @param element A frameworks element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFrameworks(FrameworkPath element) {
+      this.frameworks.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractNativeLinkableInput#getFrameworks() frameworks} set.
+     * @param elements An array of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFrameworks(FrameworkPath... elements) {
+      this.frameworks.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractNativeLinkableInput#getFrameworks() frameworks} set.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks = ImmutableSet.builder();
+      return addAllFrameworks(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractNativeLinkableInput#getFrameworks() frameworks} set.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractNativeLinkableInput#getLibraries() libraries} set.
+     * @param element A libraries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLibraries(FrameworkPath element) {
+      this.libraries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractNativeLinkableInput#getLibraries() libraries} set.
+     * @param elements An array of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLibraries(FrameworkPath... elements) {
+      this.libraries.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractNativeLinkableInput#getLibraries() libraries} set.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries = ImmutableSet.builder();
+      return addAllLibraries(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractNativeLinkableInput#getLibraries() libraries} set.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link NativeLinkableInput NativeLinkableInput}.
+     * @return An immutable instance of NativeLinkableInput
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NativeLinkableInput build() {
+      return new NativeLinkableInput(null, args.build(), frameworks.build(), libraries.build());
+    }
+  }
+}
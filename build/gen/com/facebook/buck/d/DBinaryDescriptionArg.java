@@ -0,0 +1,594 @@
+package com.facebook.buck.d;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.coercer.SourceList;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link DBinaryDescription.AbstractDBinaryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DBinaryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "DBinaryDescription.AbstractDBinaryDescriptionArg"})
+@Immutable
+public final class DBinaryDescriptionArg
+    implements DBinaryDescription.AbstractDBinaryDescriptionArg {
+  private final SourceList srcs;
+  private final ImmutableList<String> linkerFlags;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private DBinaryDescriptionArg(
+      SourceList srcs,
+      ImmutableList<String> linkerFlags,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.srcs = srcs;
+    this.linkerFlags = linkerFlags;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public SourceList getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * @return The value of the {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getSrcs() srcs} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for srcs
+   * @return A modified copy of the {@code this} object
+   */
+  public final DBinaryDescriptionArg withSrcs(SourceList value) {
+    if (this.srcs == value) return this;
+    SourceList newValue = Objects.requireNonNull(value, "srcs");
+    return new DBinaryDescriptionArg(newValue, this.linkerFlags, this.name, this.licenses, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLinkerFlags() linkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DBinaryDescriptionArg withLinkerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new DBinaryDescriptionArg(this.srcs, newValue, this.name, this.licenses, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLinkerFlags() linkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of linkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DBinaryDescriptionArg withLinkerFlags(Iterable<String> elements) {
+    if (this.linkerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new DBinaryDescriptionArg(this.srcs, newValue, this.name, this.licenses, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final DBinaryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new DBinaryDescriptionArg(this.srcs, this.linkerFlags, newValue, this.licenses, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DBinaryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new DBinaryDescriptionArg(this.srcs, this.linkerFlags, this.name, newValue, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DBinaryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new DBinaryDescriptionArg(this.srcs, this.linkerFlags, this.name, newValue, this.labels, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DBinaryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new DBinaryDescriptionArg(this.srcs, this.linkerFlags, this.name, this.licenses, newValue, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DBinaryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new DBinaryDescriptionArg(this.srcs, this.linkerFlags, this.name, this.licenses, newValue, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DBinaryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new DBinaryDescriptionArg(this.srcs, this.linkerFlags, this.name, this.licenses, this.labels, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DBinaryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new DBinaryDescriptionArg(this.srcs, this.linkerFlags, this.name, this.licenses, this.labels, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DBinaryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DBinaryDescriptionArg
+        && equalTo((DBinaryDescriptionArg) another);
+  }
+
+  private boolean equalTo(DBinaryDescriptionArg another) {
+    return srcs.equals(another.srcs)
+        && linkerFlags.equals(another.linkerFlags)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code srcs}, {@code linkerFlags}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DBinaryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DBinaryDescriptionArg")
+        .omitNullValues()
+        .add("srcs", srcs)
+        .add("linkerFlags", linkerFlags)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link DBinaryDescription.AbstractDBinaryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DBinaryDescriptionArg instance
+   */
+  static DBinaryDescriptionArg copyOf(DBinaryDescription.AbstractDBinaryDescriptionArg instance) {
+    if (instance instanceof DBinaryDescriptionArg) {
+      return (DBinaryDescriptionArg) instance;
+    }
+    return DBinaryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DBinaryDescriptionArg DBinaryDescriptionArg}.
+   * @return A new DBinaryDescriptionArg builder
+   */
+  public static DBinaryDescriptionArg.Builder builder() {
+    return new DBinaryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DBinaryDescriptionArg DBinaryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SRCS = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable SourceList srcs;
+    private ImmutableList.Builder<String> linkerFlags = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DBinaryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDBinaryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(DBinaryDescription.AbstractDBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof DBinaryDescription.AbstractDBinaryDescriptionArg) {
+        DBinaryDescription.AbstractDBinaryDescriptionArg instance = (DBinaryDescription.AbstractDBinaryDescriptionArg) object;
+        setSrcs(instance.getSrcs());
+        addAllLinkerFlags(instance.getLinkerFlags());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getSrcs() srcs} attribute.
+     * @param srcs The value for srcs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(SourceList srcs) {
+      this.srcs = Objects.requireNonNull(srcs, "srcs");
+      initBits &= ~INIT_BIT_SRCS;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link DBinaryDescription.AbstractDBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DBinaryDescriptionArg DBinaryDescriptionArg}.
+     * @return An immutable instance of DBinaryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DBinaryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DBinaryDescriptionArg(srcs, linkerFlags.build(), name, licenses.build(), labels.build(), deps.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SRCS) != 0) attributes.add("srcs");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build DBinaryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
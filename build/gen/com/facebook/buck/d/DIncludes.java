@@ -0,0 +1,270 @@
+package com.facebook.buck.d;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractDIncludes}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DIncludes.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDIncludes"})
+@Immutable
+public final class DIncludes extends AbstractDIncludes {
+  private final SourcePath linkTree;
+  private final ImmutableSortedSet<SourcePath> sources;
+
+  private DIncludes(
+      SourcePath linkTree,
+      ImmutableSortedSet<SourcePath> sources) {
+    this.linkTree = linkTree;
+    this.sources = sources;
+  }
+
+  /**
+   * @return The value of the {@code linkTree} attribute
+   */
+  @Override
+  public SourcePath getLinkTree() {
+    return linkTree;
+  }
+
+  /**
+   * @return The value of the {@code sources} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSources() {
+    return sources;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDIncludes#getLinkTree() linkTree} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for linkTree
+   * @return A modified copy of the {@code this} object
+   */
+  public final DIncludes withLinkTree(SourcePath value) {
+    if (this.linkTree == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "linkTree");
+    return new DIncludes(newValue, this.sources);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractDIncludes#getSources() sources}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DIncludes withSources(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new DIncludes(this.linkTree, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractDIncludes#getSources() sources}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of sources elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DIncludes withSources(Iterable<? extends SourcePath> elements) {
+    if (this.sources == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new DIncludes(this.linkTree, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DIncludes} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DIncludes
+        && equalTo((DIncludes) another);
+  }
+
+  private boolean equalTo(DIncludes another) {
+    return linkTree.equals(another.linkTree)
+        && sources.equals(another.sources);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code linkTree}, {@code sources}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + linkTree.hashCode();
+    h += (h << 5) + sources.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DIncludes} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DIncludes")
+        .omitNullValues()
+        .add("linkTree", linkTree)
+        .add("sources", sources)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractDIncludes} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DIncludes instance
+   */
+  static DIncludes copyOf(AbstractDIncludes instance) {
+    if (instance instanceof DIncludes) {
+      return (DIncludes) instance;
+    }
+    return DIncludes.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DIncludes DIncludes}.
+   * @return A new DIncludes builder
+   */
+  public static DIncludes.Builder builder() {
+    return new DIncludes.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DIncludes DIncludes}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_LINK_TREE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable SourcePath linkTree;
+    private ImmutableSortedSet.Builder<SourcePath> sources = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DIncludes} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DIncludes instance) {
+      return from((AbstractDIncludes) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDIncludes} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractDIncludes instance) {
+      Objects.requireNonNull(instance, "instance");
+      setLinkTree(instance.getLinkTree());
+      addAllSources(instance.getSources());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDIncludes#getLinkTree() linkTree} attribute.
+     * @param linkTree The value for linkTree 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkTree(SourcePath linkTree) {
+      this.linkTree = Objects.requireNonNull(linkTree, "linkTree");
+      initBits &= ~INIT_BIT_LINK_TREE;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractDIncludes#getSources() sources} sortedSet.
+     * @param element A sources element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSources(SourcePath element) {
+      this.sources.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractDIncludes#getSources() sources} sortedSet.
+     * @param elements An array of sources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSources(SourcePath... elements) {
+      this.sources.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractDIncludes#getSources() sources} sortedSet.
+     * @param elements An iterable of sources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSources(Iterable<? extends SourcePath> elements) {
+      this.sources = ImmutableSortedSet.naturalOrder();
+      return addAllSources(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractDIncludes#getSources() sources} sortedSet.
+     * @param elements An iterable of sources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSources(Iterable<? extends SourcePath> elements) {
+      this.sources.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DIncludes DIncludes}.
+     * @return An immutable instance of DIncludes
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DIncludes build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DIncludes(linkTree, sources.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_LINK_TREE) != 0) attributes.add("linkTree");
+      return "Cannot build DIncludes, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,772 @@
+package com.facebook.buck.distributed;
+
+import com.facebook.buck.artifact_cache.CacheResultType;
+import com.facebook.buck.rules.BuildRuleStatus;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code BuildRuleMachineLogEntry.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry"})
+@Immutable
+public final class BuildRuleMachineLogEntry
+    extends DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry {
+  private final @Nullable String ruleName;
+  private final @Nullable String ruleType;
+  private final Long wallMillisDuration;
+  private final String ruleKey;
+  private final String inputRuleKey;
+  private final @Nullable BuildRuleStatus buildRuleStatus;
+  private final @Nullable CacheResultType cacheResultType;
+  private final String outputHash;
+  private final boolean wasFailure;
+  private final boolean wasSuccessful;
+  private final boolean wasCanceled;
+  private final boolean wasCacheMiss;
+
+  private BuildRuleMachineLogEntry(
+      @Nullable String ruleName,
+      @Nullable String ruleType,
+      Long wallMillisDuration,
+      String ruleKey,
+      String inputRuleKey,
+      @Nullable BuildRuleStatus buildRuleStatus,
+      @Nullable CacheResultType cacheResultType,
+      String outputHash) {
+    this.ruleName = ruleName;
+    this.ruleType = ruleType;
+    this.wallMillisDuration = wallMillisDuration;
+    this.ruleKey = ruleKey;
+    this.inputRuleKey = inputRuleKey;
+    this.buildRuleStatus = buildRuleStatus;
+    this.cacheResultType = cacheResultType;
+    this.outputHash = outputHash;
+    this.wasFailure = initShim.wasFailure();
+    this.wasSuccessful = initShim.wasSuccessful();
+    this.wasCanceled = initShim.wasCanceled();
+    this.wasCacheMiss = initShim.wasCacheMiss();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean wasFailure;
+    private int wasFailureBuildStage;
+
+    boolean wasFailure() {
+      if (wasFailureBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (wasFailureBuildStage == STAGE_UNINITIALIZED) {
+        wasFailureBuildStage = STAGE_INITIALIZING;
+        this.wasFailure = BuildRuleMachineLogEntry.super.wasFailure();
+        wasFailureBuildStage = STAGE_INITIALIZED;
+      }
+      return this.wasFailure;
+    }
+    private boolean wasSuccessful;
+    private int wasSuccessfulBuildStage;
+
+    boolean wasSuccessful() {
+      if (wasSuccessfulBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (wasSuccessfulBuildStage == STAGE_UNINITIALIZED) {
+        wasSuccessfulBuildStage = STAGE_INITIALIZING;
+        this.wasSuccessful = BuildRuleMachineLogEntry.super.wasSuccessful();
+        wasSuccessfulBuildStage = STAGE_INITIALIZED;
+      }
+      return this.wasSuccessful;
+    }
+    private boolean wasCanceled;
+    private int wasCanceledBuildStage;
+
+    boolean wasCanceled() {
+      if (wasCanceledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (wasCanceledBuildStage == STAGE_UNINITIALIZED) {
+        wasCanceledBuildStage = STAGE_INITIALIZING;
+        this.wasCanceled = BuildRuleMachineLogEntry.super.wasCanceled();
+        wasCanceledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.wasCanceled;
+    }
+    private boolean wasCacheMiss;
+    private int wasCacheMissBuildStage;
+
+    boolean wasCacheMiss() {
+      if (wasCacheMissBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (wasCacheMissBuildStage == STAGE_UNINITIALIZED) {
+        wasCacheMissBuildStage = STAGE_INITIALIZING;
+        this.wasCacheMiss = BuildRuleMachineLogEntry.super.wasCacheMiss();
+        wasCacheMissBuildStage = STAGE_INITIALIZED;
+      }
+      return this.wasCacheMiss;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (wasFailureBuildStage == STAGE_INITIALIZING) attributes.add("wasFailure");
+      if (wasSuccessfulBuildStage == STAGE_INITIALIZING) attributes.add("wasSuccessful");
+      if (wasCanceledBuildStage == STAGE_INITIALIZING) attributes.add("wasCanceled");
+      if (wasCacheMissBuildStage == STAGE_INITIALIZING) attributes.add("wasCacheMiss");
+      return "Cannot build BuildRuleMachineLogEntry, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code ruleName} attribute
+   */
+  @Override
+  public Optional<String> getRuleName() {
+    return Optional.ofNullable(ruleName);
+  }
+
+  /**
+   * @return The value of the {@code ruleType} attribute
+   */
+  @Override
+  public Optional<String> getRuleType() {
+    return Optional.ofNullable(ruleType);
+  }
+
+  /**
+   * @return The value of the {@code wallMillisDuration} attribute
+   */
+  @Override
+  public Long getWallMillisDuration() {
+    return wallMillisDuration;
+  }
+
+  /**
+   * @return The value of the {@code ruleKey} attribute
+   */
+  @Override
+  public String getRuleKey() {
+    return ruleKey;
+  }
+
+  /**
+   * @return The value of the {@code inputRuleKey} attribute
+   */
+  @Override
+  public String getInputRuleKey() {
+    return inputRuleKey;
+  }
+
+  /**
+   * @return The value of the {@code buildRuleStatus} attribute
+   */
+  @Override
+  public Optional<BuildRuleStatus> getBuildRuleStatus() {
+    return Optional.ofNullable(buildRuleStatus);
+  }
+
+  /**
+   * @return The value of the {@code cacheResultType} attribute
+   */
+  @Override
+  public Optional<CacheResultType> getCacheResultType() {
+    return Optional.ofNullable(cacheResultType);
+  }
+
+  /**
+   * @return The value of the {@code outputHash} attribute
+   */
+  @Override
+  public String getOutputHash() {
+    return outputHash;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code wasFailure} attribute
+   */
+  @Override
+  public boolean wasFailure() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.wasFailure()
+        : this.wasFailure;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code wasSuccessful} attribute
+   */
+  @Override
+  public boolean wasSuccessful() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.wasSuccessful()
+        : this.wasSuccessful;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code wasCanceled} attribute
+   */
+  @Override
+  public boolean wasCanceled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.wasCanceled()
+        : this.wasCanceled;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code wasCacheMiss} attribute
+   */
+  @Override
+  public boolean wasCacheMiss() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.wasCacheMiss()
+        : this.wasCacheMiss;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getRuleName() ruleName} attribute.
+   * @param value The value for ruleName
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildRuleMachineLogEntry withRuleName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "ruleName");
+    if (Objects.equals(this.ruleName, newValue)) return this;
+    return new BuildRuleMachineLogEntry(
+        newValue,
+        this.ruleType,
+        this.wallMillisDuration,
+        this.ruleKey,
+        this.inputRuleKey,
+        this.buildRuleStatus,
+        this.cacheResultType,
+        this.outputHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getRuleName() ruleName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for ruleName
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildRuleMachineLogEntry withRuleName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.ruleName, value)) return this;
+    return new BuildRuleMachineLogEntry(
+        value,
+        this.ruleType,
+        this.wallMillisDuration,
+        this.ruleKey,
+        this.inputRuleKey,
+        this.buildRuleStatus,
+        this.cacheResultType,
+        this.outputHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getRuleType() ruleType} attribute.
+   * @param value The value for ruleType
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildRuleMachineLogEntry withRuleType(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "ruleType");
+    if (Objects.equals(this.ruleType, newValue)) return this;
+    return new BuildRuleMachineLogEntry(
+        this.ruleName,
+        newValue,
+        this.wallMillisDuration,
+        this.ruleKey,
+        this.inputRuleKey,
+        this.buildRuleStatus,
+        this.cacheResultType,
+        this.outputHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getRuleType() ruleType} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for ruleType
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildRuleMachineLogEntry withRuleType(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.ruleType, value)) return this;
+    return new BuildRuleMachineLogEntry(
+        this.ruleName,
+        value,
+        this.wallMillisDuration,
+        this.ruleKey,
+        this.inputRuleKey,
+        this.buildRuleStatus,
+        this.cacheResultType,
+        this.outputHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getWallMillisDuration() wallMillisDuration} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for wallMillisDuration
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildRuleMachineLogEntry withWallMillisDuration(Long value) {
+    if (this.wallMillisDuration.equals(value)) return this;
+    Long newValue = Objects.requireNonNull(value, "wallMillisDuration");
+    return new BuildRuleMachineLogEntry(
+        this.ruleName,
+        this.ruleType,
+        newValue,
+        this.ruleKey,
+        this.inputRuleKey,
+        this.buildRuleStatus,
+        this.cacheResultType,
+        this.outputHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getRuleKey() ruleKey} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleKey
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildRuleMachineLogEntry withRuleKey(String value) {
+    if (this.ruleKey.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "ruleKey");
+    return new BuildRuleMachineLogEntry(
+        this.ruleName,
+        this.ruleType,
+        this.wallMillisDuration,
+        newValue,
+        this.inputRuleKey,
+        this.buildRuleStatus,
+        this.cacheResultType,
+        this.outputHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getInputRuleKey() inputRuleKey} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for inputRuleKey
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildRuleMachineLogEntry withInputRuleKey(String value) {
+    if (this.inputRuleKey.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "inputRuleKey");
+    return new BuildRuleMachineLogEntry(
+        this.ruleName,
+        this.ruleType,
+        this.wallMillisDuration,
+        this.ruleKey,
+        newValue,
+        this.buildRuleStatus,
+        this.cacheResultType,
+        this.outputHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getBuildRuleStatus() buildRuleStatus} attribute.
+   * @param value The value for buildRuleStatus
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildRuleMachineLogEntry withBuildRuleStatus(BuildRuleStatus value) {
+    @Nullable BuildRuleStatus newValue = Objects.requireNonNull(value, "buildRuleStatus");
+    if (this.buildRuleStatus == newValue) return this;
+    return new BuildRuleMachineLogEntry(
+        this.ruleName,
+        this.ruleType,
+        this.wallMillisDuration,
+        this.ruleKey,
+        this.inputRuleKey,
+        newValue,
+        this.cacheResultType,
+        this.outputHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getBuildRuleStatus() buildRuleStatus} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for buildRuleStatus
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildRuleMachineLogEntry withBuildRuleStatus(Optional<? extends BuildRuleStatus> optional) {
+    @Nullable BuildRuleStatus value = optional.orElse(null);
+    if (Objects.equals(this.buildRuleStatus, value)) return this;
+    return new BuildRuleMachineLogEntry(
+        this.ruleName,
+        this.ruleType,
+        this.wallMillisDuration,
+        this.ruleKey,
+        this.inputRuleKey,
+        value,
+        this.cacheResultType,
+        this.outputHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getCacheResultType() cacheResultType} attribute.
+   * @param value The value for cacheResultType
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildRuleMachineLogEntry withCacheResultType(CacheResultType value) {
+    @Nullable CacheResultType newValue = Objects.requireNonNull(value, "cacheResultType");
+    if (this.cacheResultType == newValue) return this;
+    return new BuildRuleMachineLogEntry(
+        this.ruleName,
+        this.ruleType,
+        this.wallMillisDuration,
+        this.ruleKey,
+        this.inputRuleKey,
+        this.buildRuleStatus,
+        newValue,
+        this.outputHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getCacheResultType() cacheResultType} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cacheResultType
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildRuleMachineLogEntry withCacheResultType(Optional<? extends CacheResultType> optional) {
+    @Nullable CacheResultType value = optional.orElse(null);
+    if (Objects.equals(this.cacheResultType, value)) return this;
+    return new BuildRuleMachineLogEntry(
+        this.ruleName,
+        this.ruleType,
+        this.wallMillisDuration,
+        this.ruleKey,
+        this.inputRuleKey,
+        this.buildRuleStatus,
+        value,
+        this.outputHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getOutputHash() outputHash} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for outputHash
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildRuleMachineLogEntry withOutputHash(String value) {
+    if (this.outputHash.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "outputHash");
+    return new BuildRuleMachineLogEntry(
+        this.ruleName,
+        this.ruleType,
+        this.wallMillisDuration,
+        this.ruleKey,
+        this.inputRuleKey,
+        this.buildRuleStatus,
+        this.cacheResultType,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildRuleMachineLogEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildRuleMachineLogEntry
+        && equalTo((BuildRuleMachineLogEntry) another);
+  }
+
+  private boolean equalTo(BuildRuleMachineLogEntry another) {
+    return Objects.equals(ruleName, another.ruleName)
+        && Objects.equals(ruleType, another.ruleType)
+        && wallMillisDuration.equals(another.wallMillisDuration)
+        && ruleKey.equals(another.ruleKey)
+        && inputRuleKey.equals(another.inputRuleKey)
+        && Objects.equals(buildRuleStatus, another.buildRuleStatus)
+        && Objects.equals(cacheResultType, another.cacheResultType)
+        && outputHash.equals(another.outputHash)
+        && wasFailure == another.wasFailure
+        && wasSuccessful == another.wasSuccessful
+        && wasCanceled == another.wasCanceled
+        && wasCacheMiss == another.wasCacheMiss;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleName}, {@code ruleType}, {@code wallMillisDuration}, {@code ruleKey}, {@code inputRuleKey}, {@code buildRuleStatus}, {@code cacheResultType}, {@code outputHash}, {@code wasFailure}, {@code wasSuccessful}, {@code wasCanceled}, {@code wasCacheMiss}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(ruleName);
+    h += (h << 5) + Objects.hashCode(ruleType);
+    h += (h << 5) + wallMillisDuration.hashCode();
+    h += (h << 5) + ruleKey.hashCode();
+    h += (h << 5) + inputRuleKey.hashCode();
+    h += (h << 5) + Objects.hashCode(buildRuleStatus);
+    h += (h << 5) + Objects.hashCode(cacheResultType);
+    h += (h << 5) + outputHash.hashCode();
+    h += (h << 5) + Booleans.hashCode(wasFailure);
+    h += (h << 5) + Booleans.hashCode(wasSuccessful);
+    h += (h << 5) + Booleans.hashCode(wasCanceled);
+    h += (h << 5) + Booleans.hashCode(wasCacheMiss);
+    return h;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildRuleMachineLogEntry instance
+   */
+  static BuildRuleMachineLogEntry copyOf(DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry instance) {
+    if (instance instanceof BuildRuleMachineLogEntry) {
+      return (BuildRuleMachineLogEntry) instance;
+    }
+    return BuildRuleMachineLogEntry.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link BuildRuleMachineLogEntry BuildRuleMachineLogEntry}.
+   * @return A new BuildRuleMachineLogEntry builder
+   */
+  public static BuildRuleMachineLogEntry.Builder builder() {
+    return new BuildRuleMachineLogEntry.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildRuleMachineLogEntry BuildRuleMachineLogEntry}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_WALL_MILLIS_DURATION = 0x1L;
+    private static final long INIT_BIT_RULE_KEY = 0x2L;
+    private static final long INIT_BIT_INPUT_RULE_KEY = 0x4L;
+    private static final long INIT_BIT_OUTPUT_HASH = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable String ruleName;
+    private @Nullable String ruleType;
+    private @Nullable Long wallMillisDuration;
+    private @Nullable String ruleKey;
+    private @Nullable String inputRuleKey;
+    private @Nullable BuildRuleStatus buildRuleStatus;
+    private @Nullable CacheResultType cacheResultType;
+    private @Nullable String outputHash;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildRuleMachineLogEntry} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildRuleMachineLogEntry instance) {
+      return from((DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildRuleMachineLogEntry} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<String> ruleNameOptional = instance.getRuleName();
+      if (ruleNameOptional.isPresent()) {
+        setRuleName(ruleNameOptional);
+      }
+      Optional<String> ruleTypeOptional = instance.getRuleType();
+      if (ruleTypeOptional.isPresent()) {
+        setRuleType(ruleTypeOptional);
+      }
+      setWallMillisDuration(instance.getWallMillisDuration());
+      setRuleKey(instance.getRuleKey());
+      setInputRuleKey(instance.getInputRuleKey());
+      Optional<BuildRuleStatus> buildRuleStatusOptional = instance.getBuildRuleStatus();
+      if (buildRuleStatusOptional.isPresent()) {
+        setBuildRuleStatus(buildRuleStatusOptional);
+      }
+      Optional<CacheResultType> cacheResultTypeOptional = instance.getCacheResultType();
+      if (cacheResultTypeOptional.isPresent()) {
+        setCacheResultType(cacheResultTypeOptional);
+      }
+      setOutputHash(instance.getOutputHash());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getRuleName() ruleName} to ruleName.
+     * @param ruleName The value for ruleName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRuleName(String ruleName) {
+      this.ruleName = Objects.requireNonNull(ruleName, "ruleName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getRuleName() ruleName} to ruleName.
+     * @param ruleName The value for ruleName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRuleName(Optional<String> ruleName) {
+      this.ruleName = ruleName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getRuleType() ruleType} to ruleType.
+     * @param ruleType The value for ruleType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRuleType(String ruleType) {
+      this.ruleType = Objects.requireNonNull(ruleType, "ruleType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getRuleType() ruleType} to ruleType.
+     * @param ruleType The value for ruleType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRuleType(Optional<String> ruleType) {
+      this.ruleType = ruleType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getWallMillisDuration() wallMillisDuration} attribute.
+     * @param wallMillisDuration The value for wallMillisDuration 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWallMillisDuration(Long wallMillisDuration) {
+      this.wallMillisDuration = Objects.requireNonNull(wallMillisDuration, "wallMillisDuration");
+      initBits &= ~INIT_BIT_WALL_MILLIS_DURATION;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getRuleKey() ruleKey} attribute.
+     * @param ruleKey The value for ruleKey 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRuleKey(String ruleKey) {
+      this.ruleKey = Objects.requireNonNull(ruleKey, "ruleKey");
+      initBits &= ~INIT_BIT_RULE_KEY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getInputRuleKey() inputRuleKey} attribute.
+     * @param inputRuleKey The value for inputRuleKey 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInputRuleKey(String inputRuleKey) {
+      this.inputRuleKey = Objects.requireNonNull(inputRuleKey, "inputRuleKey");
+      initBits &= ~INIT_BIT_INPUT_RULE_KEY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getBuildRuleStatus() buildRuleStatus} to buildRuleStatus.
+     * @param buildRuleStatus The value for buildRuleStatus
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildRuleStatus(BuildRuleStatus buildRuleStatus) {
+      this.buildRuleStatus = Objects.requireNonNull(buildRuleStatus, "buildRuleStatus");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getBuildRuleStatus() buildRuleStatus} to buildRuleStatus.
+     * @param buildRuleStatus The value for buildRuleStatus
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildRuleStatus(Optional<? extends BuildRuleStatus> buildRuleStatus) {
+      this.buildRuleStatus = buildRuleStatus.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getCacheResultType() cacheResultType} to cacheResultType.
+     * @param cacheResultType The value for cacheResultType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCacheResultType(CacheResultType cacheResultType) {
+      this.cacheResultType = Objects.requireNonNull(cacheResultType, "cacheResultType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getCacheResultType() cacheResultType} to cacheResultType.
+     * @param cacheResultType The value for cacheResultType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCacheResultType(Optional<? extends CacheResultType> cacheResultType) {
+      this.cacheResultType = cacheResultType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry#getOutputHash() outputHash} attribute.
+     * @param outputHash The value for outputHash 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOutputHash(String outputHash) {
+      this.outputHash = Objects.requireNonNull(outputHash, "outputHash");
+      initBits &= ~INIT_BIT_OUTPUT_HASH;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link BuildRuleMachineLogEntry BuildRuleMachineLogEntry}.
+     * @return An immutable instance of BuildRuleMachineLogEntry
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildRuleMachineLogEntry build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new BuildRuleMachineLogEntry(
+          ruleName,
+          ruleType,
+          wallMillisDuration,
+          ruleKey,
+          inputRuleKey,
+          buildRuleStatus,
+          cacheResultType,
+          outputHash);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_WALL_MILLIS_DURATION) != 0) attributes.add("wallMillisDuration");
+      if ((initBits & INIT_BIT_RULE_KEY) != 0) attributes.add("ruleKey");
+      if ((initBits & INIT_BIT_INPUT_RULE_KEY) != 0) attributes.add("inputRuleKey");
+      if ((initBits & INIT_BIT_OUTPUT_HASH) != 0) attributes.add("outputHash");
+      return "Cannot build BuildRuleMachineLogEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
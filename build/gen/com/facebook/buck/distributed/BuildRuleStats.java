@@ -0,0 +1,413 @@
+package com.facebook.buck.distributed;
+
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link DistBuildPostBuildAnalysis.AbstractBuildRuleStats}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code BuildRuleStats.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code BuildRuleStats.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "DistBuildPostBuildAnalysis.AbstractBuildRuleStats"})
+@Immutable
+public final class BuildRuleStats
+    extends DistBuildPostBuildAnalysis.AbstractBuildRuleStats {
+  private final String slaveRunId;
+  private final boolean wasDefaultRuleKeyMismatch;
+  private final boolean wasInputRuleKeyMismatch;
+  private final DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry logEntry;
+
+  private BuildRuleStats(DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry logEntry) {
+    this.logEntry = Objects.requireNonNull(logEntry, "logEntry");
+    this.slaveRunId = initShim.slaveRunId();
+    this.wasDefaultRuleKeyMismatch = initShim.wasDefaultRuleKeyMismatch();
+    this.wasInputRuleKeyMismatch = initShim.wasInputRuleKeyMismatch();
+    this.initShim = null;
+  }
+
+  private BuildRuleStats(BuildRuleStats.Builder builder) {
+    this.logEntry = builder.logEntry;
+    if (builder.slaveRunId != null) {
+      initShim.setSlaveRunId(builder.slaveRunId);
+    }
+    if (builder.wasDefaultRuleKeyMismatchIsSet()) {
+      initShim.setWasDefaultRuleKeyMismatch(builder.wasDefaultRuleKeyMismatch);
+    }
+    if (builder.wasInputRuleKeyMismatchIsSet()) {
+      initShim.setWasInputRuleKeyMismatch(builder.wasInputRuleKeyMismatch);
+    }
+    this.slaveRunId = initShim.slaveRunId();
+    this.wasDefaultRuleKeyMismatch = initShim.wasDefaultRuleKeyMismatch();
+    this.wasInputRuleKeyMismatch = initShim.wasInputRuleKeyMismatch();
+    this.initShim = null;
+  }
+
+  private BuildRuleStats(
+      String slaveRunId,
+      boolean wasDefaultRuleKeyMismatch,
+      boolean wasInputRuleKeyMismatch,
+      DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry logEntry) {
+    this.slaveRunId = slaveRunId;
+    this.wasDefaultRuleKeyMismatch = wasDefaultRuleKeyMismatch;
+    this.wasInputRuleKeyMismatch = wasInputRuleKeyMismatch;
+    this.logEntry = logEntry;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private String slaveRunId;
+    private int slaveRunIdBuildStage;
+
+    String slaveRunId() {
+      if (slaveRunIdBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (slaveRunIdBuildStage == STAGE_UNINITIALIZED) {
+        slaveRunIdBuildStage = STAGE_INITIALIZING;
+        this.slaveRunId = Objects.requireNonNull(BuildRuleStats.super.slaveRunId(), "slaveRunId");
+        slaveRunIdBuildStage = STAGE_INITIALIZED;
+      }
+      return this.slaveRunId;
+    }
+
+    void setSlaveRunId(String slaveRunId) {
+      this.slaveRunId = slaveRunId;
+      slaveRunIdBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean wasDefaultRuleKeyMismatch;
+    private int wasDefaultRuleKeyMismatchBuildStage;
+
+    boolean wasDefaultRuleKeyMismatch() {
+      if (wasDefaultRuleKeyMismatchBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (wasDefaultRuleKeyMismatchBuildStage == STAGE_UNINITIALIZED) {
+        wasDefaultRuleKeyMismatchBuildStage = STAGE_INITIALIZING;
+        this.wasDefaultRuleKeyMismatch = BuildRuleStats.super.wasDefaultRuleKeyMismatch();
+        wasDefaultRuleKeyMismatchBuildStage = STAGE_INITIALIZED;
+      }
+      return this.wasDefaultRuleKeyMismatch;
+    }
+
+    void setWasDefaultRuleKeyMismatch(boolean wasDefaultRuleKeyMismatch) {
+      this.wasDefaultRuleKeyMismatch = wasDefaultRuleKeyMismatch;
+      wasDefaultRuleKeyMismatchBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean wasInputRuleKeyMismatch;
+    private int wasInputRuleKeyMismatchBuildStage;
+
+    boolean wasInputRuleKeyMismatch() {
+      if (wasInputRuleKeyMismatchBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (wasInputRuleKeyMismatchBuildStage == STAGE_UNINITIALIZED) {
+        wasInputRuleKeyMismatchBuildStage = STAGE_INITIALIZING;
+        this.wasInputRuleKeyMismatch = BuildRuleStats.super.wasInputRuleKeyMismatch();
+        wasInputRuleKeyMismatchBuildStage = STAGE_INITIALIZED;
+      }
+      return this.wasInputRuleKeyMismatch;
+    }
+
+    void setWasInputRuleKeyMismatch(boolean wasInputRuleKeyMismatch) {
+      this.wasInputRuleKeyMismatch = wasInputRuleKeyMismatch;
+      wasInputRuleKeyMismatchBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (slaveRunIdBuildStage == STAGE_INITIALIZING) attributes.add("slaveRunId");
+      if (wasDefaultRuleKeyMismatchBuildStage == STAGE_INITIALIZING) attributes.add("wasDefaultRuleKeyMismatch");
+      if (wasInputRuleKeyMismatchBuildStage == STAGE_INITIALIZING) attributes.add("wasInputRuleKeyMismatch");
+      return "Cannot build BuildRuleStats, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code slaveRunId} attribute
+   */
+  @Override
+  public String slaveRunId() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.slaveRunId()
+        : this.slaveRunId;
+  }
+
+  /**
+   * @return The value of the {@code wasDefaultRuleKeyMismatch} attribute
+   */
+  @Override
+  public boolean wasDefaultRuleKeyMismatch() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.wasDefaultRuleKeyMismatch()
+        : this.wasDefaultRuleKeyMismatch;
+  }
+
+  /**
+   * @return The value of the {@code wasInputRuleKeyMismatch} attribute
+   */
+  @Override
+  public boolean wasInputRuleKeyMismatch() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.wasInputRuleKeyMismatch()
+        : this.wasInputRuleKeyMismatch;
+  }
+
+  /**
+   * @return The value of the {@code logEntry} attribute
+   */
+  @Override
+  public DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry logEntry() {
+    return logEntry;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleStats#slaveRunId() slaveRunId} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for slaveRunId
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildRuleStats withSlaveRunId(String value) {
+    if (this.slaveRunId.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "slaveRunId");
+    return new BuildRuleStats(newValue, this.wasDefaultRuleKeyMismatch, this.wasInputRuleKeyMismatch, this.logEntry);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleStats#wasDefaultRuleKeyMismatch() wasDefaultRuleKeyMismatch} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for wasDefaultRuleKeyMismatch
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildRuleStats withWasDefaultRuleKeyMismatch(boolean value) {
+    if (this.wasDefaultRuleKeyMismatch == value) return this;
+    return new BuildRuleStats(this.slaveRunId, value, this.wasInputRuleKeyMismatch, this.logEntry);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleStats#wasInputRuleKeyMismatch() wasInputRuleKeyMismatch} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for wasInputRuleKeyMismatch
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildRuleStats withWasInputRuleKeyMismatch(boolean value) {
+    if (this.wasInputRuleKeyMismatch == value) return this;
+    return new BuildRuleStats(this.slaveRunId, this.wasDefaultRuleKeyMismatch, value, this.logEntry);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleStats#logEntry() logEntry} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for logEntry
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildRuleStats withLogEntry(DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry value) {
+    if (this.logEntry == value) return this;
+    DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry newValue = Objects.requireNonNull(value, "logEntry");
+    return new BuildRuleStats(this.slaveRunId, this.wasDefaultRuleKeyMismatch, this.wasInputRuleKeyMismatch, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildRuleStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildRuleStats
+        && equalTo((BuildRuleStats) another);
+  }
+
+  private boolean equalTo(BuildRuleStats another) {
+    return slaveRunId.equals(another.slaveRunId)
+        && wasDefaultRuleKeyMismatch == another.wasDefaultRuleKeyMismatch
+        && wasInputRuleKeyMismatch == another.wasInputRuleKeyMismatch
+        && logEntry.equals(another.logEntry);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code slaveRunId}, {@code wasDefaultRuleKeyMismatch}, {@code wasInputRuleKeyMismatch}, {@code logEntry}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + slaveRunId.hashCode();
+    h += (h << 5) + Booleans.hashCode(wasDefaultRuleKeyMismatch);
+    h += (h << 5) + Booleans.hashCode(wasInputRuleKeyMismatch);
+    h += (h << 5) + logEntry.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildRuleStats} instance.
+   * @param logEntry The value for the {@code logEntry} attribute
+   * @return An immutable BuildRuleStats instance
+   */
+  public static BuildRuleStats of(DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry logEntry) {
+    return new BuildRuleStats(logEntry);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link DistBuildPostBuildAnalysis.AbstractBuildRuleStats} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildRuleStats instance
+   */
+  static BuildRuleStats copyOf(DistBuildPostBuildAnalysis.AbstractBuildRuleStats instance) {
+    if (instance instanceof BuildRuleStats) {
+      return (BuildRuleStats) instance;
+    }
+    return BuildRuleStats.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link BuildRuleStats BuildRuleStats}.
+   * @return A new BuildRuleStats builder
+   */
+  public static BuildRuleStats.Builder builder() {
+    return new BuildRuleStats.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildRuleStats BuildRuleStats}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_LOG_ENTRY = 0x1L;
+    private static final long OPT_BIT_WAS_DEFAULT_RULE_KEY_MISMATCH = 0x1L;
+    private static final long OPT_BIT_WAS_INPUT_RULE_KEY_MISMATCH = 0x2L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable String slaveRunId;
+    private boolean wasDefaultRuleKeyMismatch;
+    private boolean wasInputRuleKeyMismatch;
+    private @Nullable DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry logEntry;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildRuleStats} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildRuleStats instance) {
+      return from((DistBuildPostBuildAnalysis.AbstractBuildRuleStats) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildRuleStats} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(DistBuildPostBuildAnalysis.AbstractBuildRuleStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSlaveRunId(instance.slaveRunId());
+      setWasDefaultRuleKeyMismatch(instance.wasDefaultRuleKeyMismatch());
+      setWasInputRuleKeyMismatch(instance.wasInputRuleKeyMismatch());
+      setLogEntry(instance.logEntry());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleStats#slaveRunId() slaveRunId} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link DistBuildPostBuildAnalysis.AbstractBuildRuleStats#slaveRunId() slaveRunId}.</em>
+     * @param slaveRunId The value for slaveRunId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSlaveRunId(String slaveRunId) {
+      this.slaveRunId = Objects.requireNonNull(slaveRunId, "slaveRunId");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleStats#wasDefaultRuleKeyMismatch() wasDefaultRuleKeyMismatch} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link DistBuildPostBuildAnalysis.AbstractBuildRuleStats#wasDefaultRuleKeyMismatch() wasDefaultRuleKeyMismatch}.</em>
+     * @param wasDefaultRuleKeyMismatch The value for wasDefaultRuleKeyMismatch 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWasDefaultRuleKeyMismatch(boolean wasDefaultRuleKeyMismatch) {
+      this.wasDefaultRuleKeyMismatch = wasDefaultRuleKeyMismatch;
+      optBits |= OPT_BIT_WAS_DEFAULT_RULE_KEY_MISMATCH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleStats#wasInputRuleKeyMismatch() wasInputRuleKeyMismatch} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link DistBuildPostBuildAnalysis.AbstractBuildRuleStats#wasInputRuleKeyMismatch() wasInputRuleKeyMismatch}.</em>
+     * @param wasInputRuleKeyMismatch The value for wasInputRuleKeyMismatch 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWasInputRuleKeyMismatch(boolean wasInputRuleKeyMismatch) {
+      this.wasInputRuleKeyMismatch = wasInputRuleKeyMismatch;
+      optBits |= OPT_BIT_WAS_INPUT_RULE_KEY_MISMATCH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DistBuildPostBuildAnalysis.AbstractBuildRuleStats#logEntry() logEntry} attribute.
+     * @param logEntry The value for logEntry 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLogEntry(DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry logEntry) {
+      this.logEntry = Objects.requireNonNull(logEntry, "logEntry");
+      initBits &= ~INIT_BIT_LOG_ENTRY;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link BuildRuleStats BuildRuleStats}.
+     * @return An immutable instance of BuildRuleStats
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildRuleStats build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new BuildRuleStats(this);
+    }
+
+    private boolean wasDefaultRuleKeyMismatchIsSet() {
+      return (optBits & OPT_BIT_WAS_DEFAULT_RULE_KEY_MISMATCH) != 0;
+    }
+
+    private boolean wasInputRuleKeyMismatchIsSet() {
+      return (optBits & OPT_BIT_WAS_INPUT_RULE_KEY_MISMATCH) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_LOG_ENTRY) != 0) attributes.add("logEntry");
+      return "Cannot build BuildRuleStats, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,2326 @@
+package com.facebook.buck.distributed;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractDistBuildClientStats}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DistBuildClientStats.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDistBuildClientStats"})
+@Immutable
+public final class DistBuildClientStats extends AbstractDistBuildClientStats {
+  private final String stampedeId;
+  private final boolean buckClientError;
+  private final String buildLabel;
+  private final @Nullable String buckClientErrorMessage;
+  private final boolean performedLocalBuild;
+  private final @Nullable Boolean localFallbackBuildEnabled;
+  private final @Nullable Integer distributedBuildExitCode;
+  private final @Nullable Integer localBuildExitCode;
+  private final @Nullable Long postDistBuildLocalStepsDurationMs;
+  private final @Nullable Long localBuildDurationMs;
+  private final @Nullable Long localPreparationDurationMs;
+  private final @Nullable Long localGraphConstructionDurationMs;
+  private final @Nullable Long performDistributedBuildDurationMs;
+  private final @Nullable Long createDistributedBuildDurationMs;
+  private final @Nullable Long uploadMissingFilesDurationMs;
+  private final @Nullable Long uploadTargetGraphDurationMs;
+  private final @Nullable Long uploadBuckDotFilesDurationMs;
+  private final @Nullable Long setBuckVersionDurationMs;
+  private final @Nullable Long missingFilesUploadedCount;
+  private final @Nullable Long materializeSlaveLogsDurationMs;
+  private final @Nullable Long publishBuildSlaveFinishedStatsDurationMs;
+  private final @Nullable Long postBuildAnalysisDurationMs;
+
+  private DistBuildClientStats(
+      String stampedeId,
+      boolean buckClientError,
+      String buildLabel,
+      @Nullable String buckClientErrorMessage,
+      boolean performedLocalBuild,
+      @Nullable Boolean localFallbackBuildEnabled,
+      @Nullable Integer distributedBuildExitCode,
+      @Nullable Integer localBuildExitCode,
+      @Nullable Long postDistBuildLocalStepsDurationMs,
+      @Nullable Long localBuildDurationMs,
+      @Nullable Long localPreparationDurationMs,
+      @Nullable Long localGraphConstructionDurationMs,
+      @Nullable Long performDistributedBuildDurationMs,
+      @Nullable Long createDistributedBuildDurationMs,
+      @Nullable Long uploadMissingFilesDurationMs,
+      @Nullable Long uploadTargetGraphDurationMs,
+      @Nullable Long uploadBuckDotFilesDurationMs,
+      @Nullable Long setBuckVersionDurationMs,
+      @Nullable Long missingFilesUploadedCount,
+      @Nullable Long materializeSlaveLogsDurationMs,
+      @Nullable Long publishBuildSlaveFinishedStatsDurationMs,
+      @Nullable Long postBuildAnalysisDurationMs) {
+    this.stampedeId = stampedeId;
+    this.buckClientError = buckClientError;
+    this.buildLabel = buildLabel;
+    this.buckClientErrorMessage = buckClientErrorMessage;
+    this.performedLocalBuild = performedLocalBuild;
+    this.localFallbackBuildEnabled = localFallbackBuildEnabled;
+    this.distributedBuildExitCode = distributedBuildExitCode;
+    this.localBuildExitCode = localBuildExitCode;
+    this.postDistBuildLocalStepsDurationMs = postDistBuildLocalStepsDurationMs;
+    this.localBuildDurationMs = localBuildDurationMs;
+    this.localPreparationDurationMs = localPreparationDurationMs;
+    this.localGraphConstructionDurationMs = localGraphConstructionDurationMs;
+    this.performDistributedBuildDurationMs = performDistributedBuildDurationMs;
+    this.createDistributedBuildDurationMs = createDistributedBuildDurationMs;
+    this.uploadMissingFilesDurationMs = uploadMissingFilesDurationMs;
+    this.uploadTargetGraphDurationMs = uploadTargetGraphDurationMs;
+    this.uploadBuckDotFilesDurationMs = uploadBuckDotFilesDurationMs;
+    this.setBuckVersionDurationMs = setBuckVersionDurationMs;
+    this.missingFilesUploadedCount = missingFilesUploadedCount;
+    this.materializeSlaveLogsDurationMs = materializeSlaveLogsDurationMs;
+    this.publishBuildSlaveFinishedStatsDurationMs = publishBuildSlaveFinishedStatsDurationMs;
+    this.postBuildAnalysisDurationMs = postBuildAnalysisDurationMs;
+  }
+
+  /**
+   * @return The value of the {@code stampedeId} attribute
+   */
+  @Override
+  public String stampedeId() {
+    return stampedeId;
+  }
+
+  /**
+   * @return The value of the {@code buckClientError} attribute
+   */
+  @Override
+  public boolean buckClientError() {
+    return buckClientError;
+  }
+
+  /**
+   * @return The value of the {@code buildLabel} attribute
+   */
+  @Override
+  public String buildLabel() {
+    return buildLabel;
+  }
+
+  /**
+   * @return The value of the {@code buckClientErrorMessage} attribute
+   */
+  @Override
+  public Optional<String> buckClientErrorMessage() {
+    return Optional.ofNullable(buckClientErrorMessage);
+  }
+
+  /**
+   * @return The value of the {@code performedLocalBuild} attribute
+   */
+  @Override
+  public boolean performedLocalBuild() {
+    return performedLocalBuild;
+  }
+
+  /**
+   * @return The value of the {@code localFallbackBuildEnabled} attribute
+   */
+  @Override
+  public Optional<Boolean> isLocalFallbackBuildEnabled() {
+    return Optional.ofNullable(localFallbackBuildEnabled);
+  }
+
+  /**
+   * @return The value of the {@code distributedBuildExitCode} attribute
+   */
+  @Override
+  public Optional<Integer> distributedBuildExitCode() {
+    return Optional.ofNullable(distributedBuildExitCode);
+  }
+
+  /**
+   * @return The value of the {@code localBuildExitCode} attribute
+   */
+  @Override
+  public Optional<Integer> localBuildExitCode() {
+    return Optional.ofNullable(localBuildExitCode);
+  }
+
+  /**
+   * @return The value of the {@code postDistBuildLocalStepsDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> postDistBuildLocalStepsDurationMs() {
+    return Optional.ofNullable(postDistBuildLocalStepsDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code localBuildDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> localBuildDurationMs() {
+    return Optional.ofNullable(localBuildDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code localPreparationDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> localPreparationDurationMs() {
+    return Optional.ofNullable(localPreparationDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code localGraphConstructionDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> localGraphConstructionDurationMs() {
+    return Optional.ofNullable(localGraphConstructionDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code performDistributedBuildDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> performDistributedBuildDurationMs() {
+    return Optional.ofNullable(performDistributedBuildDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code createDistributedBuildDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> createDistributedBuildDurationMs() {
+    return Optional.ofNullable(createDistributedBuildDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code uploadMissingFilesDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> uploadMissingFilesDurationMs() {
+    return Optional.ofNullable(uploadMissingFilesDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code uploadTargetGraphDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> uploadTargetGraphDurationMs() {
+    return Optional.ofNullable(uploadTargetGraphDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code uploadBuckDotFilesDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> uploadBuckDotFilesDurationMs() {
+    return Optional.ofNullable(uploadBuckDotFilesDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code setBuckVersionDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> setBuckVersionDurationMs() {
+    return Optional.ofNullable(setBuckVersionDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code missingFilesUploadedCount} attribute
+   */
+  @Override
+  public Optional<Long> missingFilesUploadedCount() {
+    return Optional.ofNullable(missingFilesUploadedCount);
+  }
+
+  /**
+   * @return The value of the {@code materializeSlaveLogsDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> materializeSlaveLogsDurationMs() {
+    return Optional.ofNullable(materializeSlaveLogsDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code publishBuildSlaveFinishedStatsDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> publishBuildSlaveFinishedStatsDurationMs() {
+    return Optional.ofNullable(publishBuildSlaveFinishedStatsDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code postBuildAnalysisDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> postBuildAnalysisDurationMs() {
+    return Optional.ofNullable(postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildClientStats#stampedeId() stampedeId} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for stampedeId
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildClientStats withStampedeId(String value) {
+    if (this.stampedeId.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "stampedeId");
+    return new DistBuildClientStats(
+        newValue,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildClientStats#buckClientError() buckClientError} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckClientError
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildClientStats withBuckClientError(boolean value) {
+    if (this.buckClientError == value) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        value,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildClientStats#buildLabel() buildLabel} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildLabel
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildClientStats withBuildLabel(String value) {
+    if (this.buildLabel.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "buildLabel");
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        newValue,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#buckClientErrorMessage() buckClientErrorMessage} attribute.
+   * @param value The value for buckClientErrorMessage
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withBuckClientErrorMessage(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "buckClientErrorMessage");
+    if (Objects.equals(this.buckClientErrorMessage, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        newValue,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#buckClientErrorMessage() buckClientErrorMessage} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for buckClientErrorMessage
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withBuckClientErrorMessage(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.buckClientErrorMessage, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        value,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildClientStats#performedLocalBuild() performedLocalBuild} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for performedLocalBuild
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildClientStats withPerformedLocalBuild(boolean value) {
+    if (this.performedLocalBuild == value) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        value,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#isLocalFallbackBuildEnabled() localFallbackBuildEnabled} attribute.
+   * @param value The value for localFallbackBuildEnabled
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withLocalFallbackBuildEnabled(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.localFallbackBuildEnabled, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        newValue,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#isLocalFallbackBuildEnabled() localFallbackBuildEnabled} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for localFallbackBuildEnabled
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withLocalFallbackBuildEnabled(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.localFallbackBuildEnabled, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        value,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#distributedBuildExitCode() distributedBuildExitCode} attribute.
+   * @param value The value for distributedBuildExitCode
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withDistributedBuildExitCode(int value) {
+    @Nullable Integer newValue = value;
+    if (Objects.equals(this.distributedBuildExitCode, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        newValue,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#distributedBuildExitCode() distributedBuildExitCode} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for distributedBuildExitCode
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withDistributedBuildExitCode(Optional<Integer> optional) {
+    @Nullable Integer value = optional.orElse(null);
+    if (Objects.equals(this.distributedBuildExitCode, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        value,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#localBuildExitCode() localBuildExitCode} attribute.
+   * @param value The value for localBuildExitCode
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withLocalBuildExitCode(int value) {
+    @Nullable Integer newValue = value;
+    if (Objects.equals(this.localBuildExitCode, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        newValue,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#localBuildExitCode() localBuildExitCode} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for localBuildExitCode
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withLocalBuildExitCode(Optional<Integer> optional) {
+    @Nullable Integer value = optional.orElse(null);
+    if (Objects.equals(this.localBuildExitCode, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        value,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#postDistBuildLocalStepsDurationMs() postDistBuildLocalStepsDurationMs} attribute.
+   * @param value The value for postDistBuildLocalStepsDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withPostDistBuildLocalStepsDurationMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.postDistBuildLocalStepsDurationMs, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        newValue,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#postDistBuildLocalStepsDurationMs() postDistBuildLocalStepsDurationMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for postDistBuildLocalStepsDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withPostDistBuildLocalStepsDurationMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.postDistBuildLocalStepsDurationMs, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        value,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#localBuildDurationMs() localBuildDurationMs} attribute.
+   * @param value The value for localBuildDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withLocalBuildDurationMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.localBuildDurationMs, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        newValue,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#localBuildDurationMs() localBuildDurationMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for localBuildDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withLocalBuildDurationMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.localBuildDurationMs, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        value,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#localPreparationDurationMs() localPreparationDurationMs} attribute.
+   * @param value The value for localPreparationDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withLocalPreparationDurationMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.localPreparationDurationMs, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        newValue,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#localPreparationDurationMs() localPreparationDurationMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for localPreparationDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withLocalPreparationDurationMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.localPreparationDurationMs, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        value,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#localGraphConstructionDurationMs() localGraphConstructionDurationMs} attribute.
+   * @param value The value for localGraphConstructionDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withLocalGraphConstructionDurationMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.localGraphConstructionDurationMs, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        newValue,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#localGraphConstructionDurationMs() localGraphConstructionDurationMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for localGraphConstructionDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withLocalGraphConstructionDurationMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.localGraphConstructionDurationMs, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        value,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#performDistributedBuildDurationMs() performDistributedBuildDurationMs} attribute.
+   * @param value The value for performDistributedBuildDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withPerformDistributedBuildDurationMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.performDistributedBuildDurationMs, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        newValue,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#performDistributedBuildDurationMs() performDistributedBuildDurationMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for performDistributedBuildDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withPerformDistributedBuildDurationMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.performDistributedBuildDurationMs, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        value,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#createDistributedBuildDurationMs() createDistributedBuildDurationMs} attribute.
+   * @param value The value for createDistributedBuildDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withCreateDistributedBuildDurationMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.createDistributedBuildDurationMs, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        newValue,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#createDistributedBuildDurationMs() createDistributedBuildDurationMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for createDistributedBuildDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withCreateDistributedBuildDurationMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.createDistributedBuildDurationMs, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        value,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#uploadMissingFilesDurationMs() uploadMissingFilesDurationMs} attribute.
+   * @param value The value for uploadMissingFilesDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withUploadMissingFilesDurationMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.uploadMissingFilesDurationMs, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        newValue,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#uploadMissingFilesDurationMs() uploadMissingFilesDurationMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for uploadMissingFilesDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withUploadMissingFilesDurationMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.uploadMissingFilesDurationMs, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        value,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#uploadTargetGraphDurationMs() uploadTargetGraphDurationMs} attribute.
+   * @param value The value for uploadTargetGraphDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withUploadTargetGraphDurationMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.uploadTargetGraphDurationMs, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        newValue,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#uploadTargetGraphDurationMs() uploadTargetGraphDurationMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for uploadTargetGraphDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withUploadTargetGraphDurationMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.uploadTargetGraphDurationMs, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        value,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#uploadBuckDotFilesDurationMs() uploadBuckDotFilesDurationMs} attribute.
+   * @param value The value for uploadBuckDotFilesDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withUploadBuckDotFilesDurationMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.uploadBuckDotFilesDurationMs, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        newValue,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#uploadBuckDotFilesDurationMs() uploadBuckDotFilesDurationMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for uploadBuckDotFilesDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withUploadBuckDotFilesDurationMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.uploadBuckDotFilesDurationMs, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        value,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#setBuckVersionDurationMs() setBuckVersionDurationMs} attribute.
+   * @param value The value for setBuckVersionDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withSetBuckVersionDurationMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.setBuckVersionDurationMs, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        newValue,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#setBuckVersionDurationMs() setBuckVersionDurationMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for setBuckVersionDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withSetBuckVersionDurationMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.setBuckVersionDurationMs, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        value,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#missingFilesUploadedCount() missingFilesUploadedCount} attribute.
+   * @param value The value for missingFilesUploadedCount
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withMissingFilesUploadedCount(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.missingFilesUploadedCount, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        newValue,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#missingFilesUploadedCount() missingFilesUploadedCount} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for missingFilesUploadedCount
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withMissingFilesUploadedCount(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.missingFilesUploadedCount, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        value,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#materializeSlaveLogsDurationMs() materializeSlaveLogsDurationMs} attribute.
+   * @param value The value for materializeSlaveLogsDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withMaterializeSlaveLogsDurationMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.materializeSlaveLogsDurationMs, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        newValue,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#materializeSlaveLogsDurationMs() materializeSlaveLogsDurationMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for materializeSlaveLogsDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withMaterializeSlaveLogsDurationMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.materializeSlaveLogsDurationMs, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        value,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#publishBuildSlaveFinishedStatsDurationMs() publishBuildSlaveFinishedStatsDurationMs} attribute.
+   * @param value The value for publishBuildSlaveFinishedStatsDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withPublishBuildSlaveFinishedStatsDurationMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.publishBuildSlaveFinishedStatsDurationMs, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        newValue,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#publishBuildSlaveFinishedStatsDurationMs() publishBuildSlaveFinishedStatsDurationMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for publishBuildSlaveFinishedStatsDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withPublishBuildSlaveFinishedStatsDurationMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.publishBuildSlaveFinishedStatsDurationMs, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        value,
+        this.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDistBuildClientStats#postBuildAnalysisDurationMs() postBuildAnalysisDurationMs} attribute.
+   * @param value The value for postBuildAnalysisDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withPostBuildAnalysisDurationMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.postBuildAnalysisDurationMs, newValue)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDistBuildClientStats#postBuildAnalysisDurationMs() postBuildAnalysisDurationMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for postBuildAnalysisDurationMs
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildClientStats withPostBuildAnalysisDurationMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.postBuildAnalysisDurationMs, value)) return this;
+    return new DistBuildClientStats(
+        this.stampedeId,
+        this.buckClientError,
+        this.buildLabel,
+        this.buckClientErrorMessage,
+        this.performedLocalBuild,
+        this.localFallbackBuildEnabled,
+        this.distributedBuildExitCode,
+        this.localBuildExitCode,
+        this.postDistBuildLocalStepsDurationMs,
+        this.localBuildDurationMs,
+        this.localPreparationDurationMs,
+        this.localGraphConstructionDurationMs,
+        this.performDistributedBuildDurationMs,
+        this.createDistributedBuildDurationMs,
+        this.uploadMissingFilesDurationMs,
+        this.uploadTargetGraphDurationMs,
+        this.uploadBuckDotFilesDurationMs,
+        this.setBuckVersionDurationMs,
+        this.missingFilesUploadedCount,
+        this.materializeSlaveLogsDurationMs,
+        this.publishBuildSlaveFinishedStatsDurationMs,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DistBuildClientStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DistBuildClientStats
+        && equalTo((DistBuildClientStats) another);
+  }
+
+  private boolean equalTo(DistBuildClientStats another) {
+    return stampedeId.equals(another.stampedeId)
+        && buckClientError == another.buckClientError
+        && buildLabel.equals(another.buildLabel)
+        && Objects.equals(buckClientErrorMessage, another.buckClientErrorMessage)
+        && performedLocalBuild == another.performedLocalBuild
+        && Objects.equals(localFallbackBuildEnabled, another.localFallbackBuildEnabled)
+        && Objects.equals(distributedBuildExitCode, another.distributedBuildExitCode)
+        && Objects.equals(localBuildExitCode, another.localBuildExitCode)
+        && Objects.equals(postDistBuildLocalStepsDurationMs, another.postDistBuildLocalStepsDurationMs)
+        && Objects.equals(localBuildDurationMs, another.localBuildDurationMs)
+        && Objects.equals(localPreparationDurationMs, another.localPreparationDurationMs)
+        && Objects.equals(localGraphConstructionDurationMs, another.localGraphConstructionDurationMs)
+        && Objects.equals(performDistributedBuildDurationMs, another.performDistributedBuildDurationMs)
+        && Objects.equals(createDistributedBuildDurationMs, another.createDistributedBuildDurationMs)
+        && Objects.equals(uploadMissingFilesDurationMs, another.uploadMissingFilesDurationMs)
+        && Objects.equals(uploadTargetGraphDurationMs, another.uploadTargetGraphDurationMs)
+        && Objects.equals(uploadBuckDotFilesDurationMs, another.uploadBuckDotFilesDurationMs)
+        && Objects.equals(setBuckVersionDurationMs, another.setBuckVersionDurationMs)
+        && Objects.equals(missingFilesUploadedCount, another.missingFilesUploadedCount)
+        && Objects.equals(materializeSlaveLogsDurationMs, another.materializeSlaveLogsDurationMs)
+        && Objects.equals(publishBuildSlaveFinishedStatsDurationMs, another.publishBuildSlaveFinishedStatsDurationMs)
+        && Objects.equals(postBuildAnalysisDurationMs, another.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code stampedeId}, {@code buckClientError}, {@code buildLabel}, {@code buckClientErrorMessage}, {@code performedLocalBuild}, {@code localFallbackBuildEnabled}, {@code distributedBuildExitCode}, {@code localBuildExitCode}, {@code postDistBuildLocalStepsDurationMs}, {@code localBuildDurationMs}, {@code localPreparationDurationMs}, {@code localGraphConstructionDurationMs}, {@code performDistributedBuildDurationMs}, {@code createDistributedBuildDurationMs}, {@code uploadMissingFilesDurationMs}, {@code uploadTargetGraphDurationMs}, {@code uploadBuckDotFilesDurationMs}, {@code setBuckVersionDurationMs}, {@code missingFilesUploadedCount}, {@code materializeSlaveLogsDurationMs}, {@code publishBuildSlaveFinishedStatsDurationMs}, {@code postBuildAnalysisDurationMs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + stampedeId.hashCode();
+    h += (h << 5) + Booleans.hashCode(buckClientError);
+    h += (h << 5) + buildLabel.hashCode();
+    h += (h << 5) + Objects.hashCode(buckClientErrorMessage);
+    h += (h << 5) + Booleans.hashCode(performedLocalBuild);
+    h += (h << 5) + Objects.hashCode(localFallbackBuildEnabled);
+    h += (h << 5) + Objects.hashCode(distributedBuildExitCode);
+    h += (h << 5) + Objects.hashCode(localBuildExitCode);
+    h += (h << 5) + Objects.hashCode(postDistBuildLocalStepsDurationMs);
+    h += (h << 5) + Objects.hashCode(localBuildDurationMs);
+    h += (h << 5) + Objects.hashCode(localPreparationDurationMs);
+    h += (h << 5) + Objects.hashCode(localGraphConstructionDurationMs);
+    h += (h << 5) + Objects.hashCode(performDistributedBuildDurationMs);
+    h += (h << 5) + Objects.hashCode(createDistributedBuildDurationMs);
+    h += (h << 5) + Objects.hashCode(uploadMissingFilesDurationMs);
+    h += (h << 5) + Objects.hashCode(uploadTargetGraphDurationMs);
+    h += (h << 5) + Objects.hashCode(uploadBuckDotFilesDurationMs);
+    h += (h << 5) + Objects.hashCode(setBuckVersionDurationMs);
+    h += (h << 5) + Objects.hashCode(missingFilesUploadedCount);
+    h += (h << 5) + Objects.hashCode(materializeSlaveLogsDurationMs);
+    h += (h << 5) + Objects.hashCode(publishBuildSlaveFinishedStatsDurationMs);
+    h += (h << 5) + Objects.hashCode(postBuildAnalysisDurationMs);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DistBuildClientStats} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DistBuildClientStats")
+        .omitNullValues()
+        .add("stampedeId", stampedeId)
+        .add("buckClientError", buckClientError)
+        .add("buildLabel", buildLabel)
+        .add("buckClientErrorMessage", buckClientErrorMessage)
+        .add("performedLocalBuild", performedLocalBuild)
+        .add("localFallbackBuildEnabled", localFallbackBuildEnabled)
+        .add("distributedBuildExitCode", distributedBuildExitCode)
+        .add("localBuildExitCode", localBuildExitCode)
+        .add("postDistBuildLocalStepsDurationMs", postDistBuildLocalStepsDurationMs)
+        .add("localBuildDurationMs", localBuildDurationMs)
+        .add("localPreparationDurationMs", localPreparationDurationMs)
+        .add("localGraphConstructionDurationMs", localGraphConstructionDurationMs)
+        .add("performDistributedBuildDurationMs", performDistributedBuildDurationMs)
+        .add("createDistributedBuildDurationMs", createDistributedBuildDurationMs)
+        .add("uploadMissingFilesDurationMs", uploadMissingFilesDurationMs)
+        .add("uploadTargetGraphDurationMs", uploadTargetGraphDurationMs)
+        .add("uploadBuckDotFilesDurationMs", uploadBuckDotFilesDurationMs)
+        .add("setBuckVersionDurationMs", setBuckVersionDurationMs)
+        .add("missingFilesUploadedCount", missingFilesUploadedCount)
+        .add("materializeSlaveLogsDurationMs", materializeSlaveLogsDurationMs)
+        .add("publishBuildSlaveFinishedStatsDurationMs", publishBuildSlaveFinishedStatsDurationMs)
+        .add("postBuildAnalysisDurationMs", postBuildAnalysisDurationMs)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractDistBuildClientStats} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DistBuildClientStats instance
+   */
+  static DistBuildClientStats copyOf(AbstractDistBuildClientStats instance) {
+    if (instance instanceof DistBuildClientStats) {
+      return (DistBuildClientStats) instance;
+    }
+    return DistBuildClientStats.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DistBuildClientStats DistBuildClientStats}.
+   * @return A new DistBuildClientStats builder
+   */
+  public static DistBuildClientStats.Builder builder() {
+    return new DistBuildClientStats.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DistBuildClientStats DistBuildClientStats}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_STAMPEDE_ID = 0x1L;
+    private static final long INIT_BIT_BUCK_CLIENT_ERROR = 0x2L;
+    private static final long INIT_BIT_BUILD_LABEL = 0x4L;
+    private static final long INIT_BIT_PERFORMED_LOCAL_BUILD = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable String stampedeId;
+    private boolean buckClientError;
+    private @Nullable String buildLabel;
+    private @Nullable String buckClientErrorMessage;
+    private boolean performedLocalBuild;
+    private @Nullable Boolean localFallbackBuildEnabled;
+    private @Nullable Integer distributedBuildExitCode;
+    private @Nullable Integer localBuildExitCode;
+    private @Nullable Long postDistBuildLocalStepsDurationMs;
+    private @Nullable Long localBuildDurationMs;
+    private @Nullable Long localPreparationDurationMs;
+    private @Nullable Long localGraphConstructionDurationMs;
+    private @Nullable Long performDistributedBuildDurationMs;
+    private @Nullable Long createDistributedBuildDurationMs;
+    private @Nullable Long uploadMissingFilesDurationMs;
+    private @Nullable Long uploadTargetGraphDurationMs;
+    private @Nullable Long uploadBuckDotFilesDurationMs;
+    private @Nullable Long setBuckVersionDurationMs;
+    private @Nullable Long missingFilesUploadedCount;
+    private @Nullable Long materializeSlaveLogsDurationMs;
+    private @Nullable Long publishBuildSlaveFinishedStatsDurationMs;
+    private @Nullable Long postBuildAnalysisDurationMs;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DistBuildClientStats} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DistBuildClientStats instance) {
+      return from((AbstractDistBuildClientStats) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDistBuildClientStats} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractDistBuildClientStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      setStampedeId(instance.stampedeId());
+      setBuckClientError(instance.buckClientError());
+      setBuildLabel(instance.buildLabel());
+      Optional<String> buckClientErrorMessageOptional = instance.buckClientErrorMessage();
+      if (buckClientErrorMessageOptional.isPresent()) {
+        setBuckClientErrorMessage(buckClientErrorMessageOptional);
+      }
+      setPerformedLocalBuild(instance.performedLocalBuild());
+      Optional<Boolean> localFallbackBuildEnabledOptional = instance.isLocalFallbackBuildEnabled();
+      if (localFallbackBuildEnabledOptional.isPresent()) {
+        setLocalFallbackBuildEnabled(localFallbackBuildEnabledOptional);
+      }
+      Optional<Integer> distributedBuildExitCodeOptional = instance.distributedBuildExitCode();
+      if (distributedBuildExitCodeOptional.isPresent()) {
+        setDistributedBuildExitCode(distributedBuildExitCodeOptional);
+      }
+      Optional<Integer> localBuildExitCodeOptional = instance.localBuildExitCode();
+      if (localBuildExitCodeOptional.isPresent()) {
+        setLocalBuildExitCode(localBuildExitCodeOptional);
+      }
+      Optional<Long> postDistBuildLocalStepsDurationMsOptional = instance.postDistBuildLocalStepsDurationMs();
+      if (postDistBuildLocalStepsDurationMsOptional.isPresent()) {
+        setPostDistBuildLocalStepsDurationMs(postDistBuildLocalStepsDurationMsOptional);
+      }
+      Optional<Long> localBuildDurationMsOptional = instance.localBuildDurationMs();
+      if (localBuildDurationMsOptional.isPresent()) {
+        setLocalBuildDurationMs(localBuildDurationMsOptional);
+      }
+      Optional<Long> localPreparationDurationMsOptional = instance.localPreparationDurationMs();
+      if (localPreparationDurationMsOptional.isPresent()) {
+        setLocalPreparationDurationMs(localPreparationDurationMsOptional);
+      }
+      Optional<Long> localGraphConstructionDurationMsOptional = instance.localGraphConstructionDurationMs();
+      if (localGraphConstructionDurationMsOptional.isPresent()) {
+        setLocalGraphConstructionDurationMs(localGraphConstructionDurationMsOptional);
+      }
+      Optional<Long> performDistributedBuildDurationMsOptional = instance.performDistributedBuildDurationMs();
+      if (performDistributedBuildDurationMsOptional.isPresent()) {
+        setPerformDistributedBuildDurationMs(performDistributedBuildDurationMsOptional);
+      }
+      Optional<Long> createDistributedBuildDurationMsOptional = instance.createDistributedBuildDurationMs();
+      if (createDistributedBuildDurationMsOptional.isPresent()) {
+        setCreateDistributedBuildDurationMs(createDistributedBuildDurationMsOptional);
+      }
+      Optional<Long> uploadMissingFilesDurationMsOptional = instance.uploadMissingFilesDurationMs();
+      if (uploadMissingFilesDurationMsOptional.isPresent()) {
+        setUploadMissingFilesDurationMs(uploadMissingFilesDurationMsOptional);
+      }
+      Optional<Long> uploadTargetGraphDurationMsOptional = instance.uploadTargetGraphDurationMs();
+      if (uploadTargetGraphDurationMsOptional.isPresent()) {
+        setUploadTargetGraphDurationMs(uploadTargetGraphDurationMsOptional);
+      }
+      Optional<Long> uploadBuckDotFilesDurationMsOptional = instance.uploadBuckDotFilesDurationMs();
+      if (uploadBuckDotFilesDurationMsOptional.isPresent()) {
+        setUploadBuckDotFilesDurationMs(uploadBuckDotFilesDurationMsOptional);
+      }
+      Optional<Long> setBuckVersionDurationMsOptional = instance.setBuckVersionDurationMs();
+      if (setBuckVersionDurationMsOptional.isPresent()) {
+        setSetBuckVersionDurationMs(setBuckVersionDurationMsOptional);
+      }
+      Optional<Long> missingFilesUploadedCountOptional = instance.missingFilesUploadedCount();
+      if (missingFilesUploadedCountOptional.isPresent()) {
+        setMissingFilesUploadedCount(missingFilesUploadedCountOptional);
+      }
+      Optional<Long> materializeSlaveLogsDurationMsOptional = instance.materializeSlaveLogsDurationMs();
+      if (materializeSlaveLogsDurationMsOptional.isPresent()) {
+        setMaterializeSlaveLogsDurationMs(materializeSlaveLogsDurationMsOptional);
+      }
+      Optional<Long> publishBuildSlaveFinishedStatsDurationMsOptional = instance.publishBuildSlaveFinishedStatsDurationMs();
+      if (publishBuildSlaveFinishedStatsDurationMsOptional.isPresent()) {
+        setPublishBuildSlaveFinishedStatsDurationMs(publishBuildSlaveFinishedStatsDurationMsOptional);
+      }
+      Optional<Long> postBuildAnalysisDurationMsOptional = instance.postBuildAnalysisDurationMs();
+      if (postBuildAnalysisDurationMsOptional.isPresent()) {
+        setPostBuildAnalysisDurationMs(postBuildAnalysisDurationMsOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildClientStats#stampedeId() stampedeId} attribute.
+     * @param stampedeId The value for stampedeId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStampedeId(String stampedeId) {
+      this.stampedeId = Objects.requireNonNull(stampedeId, "stampedeId");
+      initBits &= ~INIT_BIT_STAMPEDE_ID;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildClientStats#buckClientError() buckClientError} attribute.
+     * @param buckClientError The value for buckClientError 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuckClientError(boolean buckClientError) {
+      this.buckClientError = buckClientError;
+      initBits &= ~INIT_BIT_BUCK_CLIENT_ERROR;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildClientStats#buildLabel() buildLabel} attribute.
+     * @param buildLabel The value for buildLabel 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildLabel(String buildLabel) {
+      this.buildLabel = Objects.requireNonNull(buildLabel, "buildLabel");
+      initBits &= ~INIT_BIT_BUILD_LABEL;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#buckClientErrorMessage() buckClientErrorMessage} to buckClientErrorMessage.
+     * @param buckClientErrorMessage The value for buckClientErrorMessage
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuckClientErrorMessage(String buckClientErrorMessage) {
+      this.buckClientErrorMessage = Objects.requireNonNull(buckClientErrorMessage, "buckClientErrorMessage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#buckClientErrorMessage() buckClientErrorMessage} to buckClientErrorMessage.
+     * @param buckClientErrorMessage The value for buckClientErrorMessage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuckClientErrorMessage(Optional<String> buckClientErrorMessage) {
+      this.buckClientErrorMessage = buckClientErrorMessage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildClientStats#performedLocalBuild() performedLocalBuild} attribute.
+     * @param performedLocalBuild The value for performedLocalBuild 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPerformedLocalBuild(boolean performedLocalBuild) {
+      this.performedLocalBuild = performedLocalBuild;
+      initBits &= ~INIT_BIT_PERFORMED_LOCAL_BUILD;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#isLocalFallbackBuildEnabled() localFallbackBuildEnabled} to localFallbackBuildEnabled.
+     * @param localFallbackBuildEnabled The value for localFallbackBuildEnabled
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLocalFallbackBuildEnabled(boolean localFallbackBuildEnabled) {
+      this.localFallbackBuildEnabled = localFallbackBuildEnabled;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#isLocalFallbackBuildEnabled() localFallbackBuildEnabled} to localFallbackBuildEnabled.
+     * @param localFallbackBuildEnabled The value for localFallbackBuildEnabled
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLocalFallbackBuildEnabled(Optional<Boolean> localFallbackBuildEnabled) {
+      this.localFallbackBuildEnabled = localFallbackBuildEnabled.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#distributedBuildExitCode() distributedBuildExitCode} to distributedBuildExitCode.
+     * @param distributedBuildExitCode The value for distributedBuildExitCode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDistributedBuildExitCode(int distributedBuildExitCode) {
+      this.distributedBuildExitCode = distributedBuildExitCode;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#distributedBuildExitCode() distributedBuildExitCode} to distributedBuildExitCode.
+     * @param distributedBuildExitCode The value for distributedBuildExitCode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDistributedBuildExitCode(Optional<Integer> distributedBuildExitCode) {
+      this.distributedBuildExitCode = distributedBuildExitCode.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localBuildExitCode() localBuildExitCode} to localBuildExitCode.
+     * @param localBuildExitCode The value for localBuildExitCode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLocalBuildExitCode(int localBuildExitCode) {
+      this.localBuildExitCode = localBuildExitCode;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localBuildExitCode() localBuildExitCode} to localBuildExitCode.
+     * @param localBuildExitCode The value for localBuildExitCode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLocalBuildExitCode(Optional<Integer> localBuildExitCode) {
+      this.localBuildExitCode = localBuildExitCode.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#postDistBuildLocalStepsDurationMs() postDistBuildLocalStepsDurationMs} to postDistBuildLocalStepsDurationMs.
+     * @param postDistBuildLocalStepsDurationMs The value for postDistBuildLocalStepsDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPostDistBuildLocalStepsDurationMs(long postDistBuildLocalStepsDurationMs) {
+      this.postDistBuildLocalStepsDurationMs = postDistBuildLocalStepsDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#postDistBuildLocalStepsDurationMs() postDistBuildLocalStepsDurationMs} to postDistBuildLocalStepsDurationMs.
+     * @param postDistBuildLocalStepsDurationMs The value for postDistBuildLocalStepsDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPostDistBuildLocalStepsDurationMs(Optional<Long> postDistBuildLocalStepsDurationMs) {
+      this.postDistBuildLocalStepsDurationMs = postDistBuildLocalStepsDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localBuildDurationMs() localBuildDurationMs} to localBuildDurationMs.
+     * @param localBuildDurationMs The value for localBuildDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLocalBuildDurationMs(long localBuildDurationMs) {
+      this.localBuildDurationMs = localBuildDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localBuildDurationMs() localBuildDurationMs} to localBuildDurationMs.
+     * @param localBuildDurationMs The value for localBuildDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLocalBuildDurationMs(Optional<Long> localBuildDurationMs) {
+      this.localBuildDurationMs = localBuildDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localPreparationDurationMs() localPreparationDurationMs} to localPreparationDurationMs.
+     * @param localPreparationDurationMs The value for localPreparationDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLocalPreparationDurationMs(long localPreparationDurationMs) {
+      this.localPreparationDurationMs = localPreparationDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localPreparationDurationMs() localPreparationDurationMs} to localPreparationDurationMs.
+     * @param localPreparationDurationMs The value for localPreparationDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLocalPreparationDurationMs(Optional<Long> localPreparationDurationMs) {
+      this.localPreparationDurationMs = localPreparationDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localGraphConstructionDurationMs() localGraphConstructionDurationMs} to localGraphConstructionDurationMs.
+     * @param localGraphConstructionDurationMs The value for localGraphConstructionDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLocalGraphConstructionDurationMs(long localGraphConstructionDurationMs) {
+      this.localGraphConstructionDurationMs = localGraphConstructionDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localGraphConstructionDurationMs() localGraphConstructionDurationMs} to localGraphConstructionDurationMs.
+     * @param localGraphConstructionDurationMs The value for localGraphConstructionDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLocalGraphConstructionDurationMs(Optional<Long> localGraphConstructionDurationMs) {
+      this.localGraphConstructionDurationMs = localGraphConstructionDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#performDistributedBuildDurationMs() performDistributedBuildDurationMs} to performDistributedBuildDurationMs.
+     * @param performDistributedBuildDurationMs The value for performDistributedBuildDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPerformDistributedBuildDurationMs(long performDistributedBuildDurationMs) {
+      this.performDistributedBuildDurationMs = performDistributedBuildDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#performDistributedBuildDurationMs() performDistributedBuildDurationMs} to performDistributedBuildDurationMs.
+     * @param performDistributedBuildDurationMs The value for performDistributedBuildDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPerformDistributedBuildDurationMs(Optional<Long> performDistributedBuildDurationMs) {
+      this.performDistributedBuildDurationMs = performDistributedBuildDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#createDistributedBuildDurationMs() createDistributedBuildDurationMs} to createDistributedBuildDurationMs.
+     * @param createDistributedBuildDurationMs The value for createDistributedBuildDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCreateDistributedBuildDurationMs(long createDistributedBuildDurationMs) {
+      this.createDistributedBuildDurationMs = createDistributedBuildDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#createDistributedBuildDurationMs() createDistributedBuildDurationMs} to createDistributedBuildDurationMs.
+     * @param createDistributedBuildDurationMs The value for createDistributedBuildDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCreateDistributedBuildDurationMs(Optional<Long> createDistributedBuildDurationMs) {
+      this.createDistributedBuildDurationMs = createDistributedBuildDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#uploadMissingFilesDurationMs() uploadMissingFilesDurationMs} to uploadMissingFilesDurationMs.
+     * @param uploadMissingFilesDurationMs The value for uploadMissingFilesDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUploadMissingFilesDurationMs(long uploadMissingFilesDurationMs) {
+      this.uploadMissingFilesDurationMs = uploadMissingFilesDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#uploadMissingFilesDurationMs() uploadMissingFilesDurationMs} to uploadMissingFilesDurationMs.
+     * @param uploadMissingFilesDurationMs The value for uploadMissingFilesDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUploadMissingFilesDurationMs(Optional<Long> uploadMissingFilesDurationMs) {
+      this.uploadMissingFilesDurationMs = uploadMissingFilesDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#uploadTargetGraphDurationMs() uploadTargetGraphDurationMs} to uploadTargetGraphDurationMs.
+     * @param uploadTargetGraphDurationMs The value for uploadTargetGraphDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUploadTargetGraphDurationMs(long uploadTargetGraphDurationMs) {
+      this.uploadTargetGraphDurationMs = uploadTargetGraphDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#uploadTargetGraphDurationMs() uploadTargetGraphDurationMs} to uploadTargetGraphDurationMs.
+     * @param uploadTargetGraphDurationMs The value for uploadTargetGraphDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUploadTargetGraphDurationMs(Optional<Long> uploadTargetGraphDurationMs) {
+      this.uploadTargetGraphDurationMs = uploadTargetGraphDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#uploadBuckDotFilesDurationMs() uploadBuckDotFilesDurationMs} to uploadBuckDotFilesDurationMs.
+     * @param uploadBuckDotFilesDurationMs The value for uploadBuckDotFilesDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUploadBuckDotFilesDurationMs(long uploadBuckDotFilesDurationMs) {
+      this.uploadBuckDotFilesDurationMs = uploadBuckDotFilesDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#uploadBuckDotFilesDurationMs() uploadBuckDotFilesDurationMs} to uploadBuckDotFilesDurationMs.
+     * @param uploadBuckDotFilesDurationMs The value for uploadBuckDotFilesDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUploadBuckDotFilesDurationMs(Optional<Long> uploadBuckDotFilesDurationMs) {
+      this.uploadBuckDotFilesDurationMs = uploadBuckDotFilesDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#setBuckVersionDurationMs() setBuckVersionDurationMs} to setBuckVersionDurationMs.
+     * @param setBuckVersionDurationMs The value for setBuckVersionDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSetBuckVersionDurationMs(long setBuckVersionDurationMs) {
+      this.setBuckVersionDurationMs = setBuckVersionDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#setBuckVersionDurationMs() setBuckVersionDurationMs} to setBuckVersionDurationMs.
+     * @param setBuckVersionDurationMs The value for setBuckVersionDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSetBuckVersionDurationMs(Optional<Long> setBuckVersionDurationMs) {
+      this.setBuckVersionDurationMs = setBuckVersionDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#missingFilesUploadedCount() missingFilesUploadedCount} to missingFilesUploadedCount.
+     * @param missingFilesUploadedCount The value for missingFilesUploadedCount
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMissingFilesUploadedCount(long missingFilesUploadedCount) {
+      this.missingFilesUploadedCount = missingFilesUploadedCount;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#missingFilesUploadedCount() missingFilesUploadedCount} to missingFilesUploadedCount.
+     * @param missingFilesUploadedCount The value for missingFilesUploadedCount
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMissingFilesUploadedCount(Optional<Long> missingFilesUploadedCount) {
+      this.missingFilesUploadedCount = missingFilesUploadedCount.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#materializeSlaveLogsDurationMs() materializeSlaveLogsDurationMs} to materializeSlaveLogsDurationMs.
+     * @param materializeSlaveLogsDurationMs The value for materializeSlaveLogsDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMaterializeSlaveLogsDurationMs(long materializeSlaveLogsDurationMs) {
+      this.materializeSlaveLogsDurationMs = materializeSlaveLogsDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#materializeSlaveLogsDurationMs() materializeSlaveLogsDurationMs} to materializeSlaveLogsDurationMs.
+     * @param materializeSlaveLogsDurationMs The value for materializeSlaveLogsDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMaterializeSlaveLogsDurationMs(Optional<Long> materializeSlaveLogsDurationMs) {
+      this.materializeSlaveLogsDurationMs = materializeSlaveLogsDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#publishBuildSlaveFinishedStatsDurationMs() publishBuildSlaveFinishedStatsDurationMs} to publishBuildSlaveFinishedStatsDurationMs.
+     * @param publishBuildSlaveFinishedStatsDurationMs The value for publishBuildSlaveFinishedStatsDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPublishBuildSlaveFinishedStatsDurationMs(long publishBuildSlaveFinishedStatsDurationMs) {
+      this.publishBuildSlaveFinishedStatsDurationMs = publishBuildSlaveFinishedStatsDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#publishBuildSlaveFinishedStatsDurationMs() publishBuildSlaveFinishedStatsDurationMs} to publishBuildSlaveFinishedStatsDurationMs.
+     * @param publishBuildSlaveFinishedStatsDurationMs The value for publishBuildSlaveFinishedStatsDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPublishBuildSlaveFinishedStatsDurationMs(Optional<Long> publishBuildSlaveFinishedStatsDurationMs) {
+      this.publishBuildSlaveFinishedStatsDurationMs = publishBuildSlaveFinishedStatsDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#postBuildAnalysisDurationMs() postBuildAnalysisDurationMs} to postBuildAnalysisDurationMs.
+     * @param postBuildAnalysisDurationMs The value for postBuildAnalysisDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPostBuildAnalysisDurationMs(long postBuildAnalysisDurationMs) {
+      this.postBuildAnalysisDurationMs = postBuildAnalysisDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#postBuildAnalysisDurationMs() postBuildAnalysisDurationMs} to postBuildAnalysisDurationMs.
+     * @param postBuildAnalysisDurationMs The value for postBuildAnalysisDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPostBuildAnalysisDurationMs(Optional<Long> postBuildAnalysisDurationMs) {
+      this.postBuildAnalysisDurationMs = postBuildAnalysisDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DistBuildClientStats DistBuildClientStats}.
+     * @return An immutable instance of DistBuildClientStats
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DistBuildClientStats build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DistBuildClientStats(
+          stampedeId,
+          buckClientError,
+          buildLabel,
+          buckClientErrorMessage,
+          performedLocalBuild,
+          localFallbackBuildEnabled,
+          distributedBuildExitCode,
+          localBuildExitCode,
+          postDistBuildLocalStepsDurationMs,
+          localBuildDurationMs,
+          localPreparationDurationMs,
+          localGraphConstructionDurationMs,
+          performDistributedBuildDurationMs,
+          createDistributedBuildDurationMs,
+          uploadMissingFilesDurationMs,
+          uploadTargetGraphDurationMs,
+          uploadBuckDotFilesDurationMs,
+          setBuckVersionDurationMs,
+          missingFilesUploadedCount,
+          materializeSlaveLogsDurationMs,
+          publishBuildSlaveFinishedStatsDurationMs,
+          postBuildAnalysisDurationMs);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_STAMPEDE_ID) != 0) attributes.add("stampedeId");
+      if ((initBits & INIT_BIT_BUCK_CLIENT_ERROR) != 0) attributes.add("buckClientError");
+      if ((initBits & INIT_BIT_BUILD_LABEL) != 0) attributes.add("buildLabel");
+      if ((initBits & INIT_BIT_PERFORMED_LOCAL_BUILD) != 0) attributes.add("performedLocalBuild");
+      return "Cannot build DistBuildClientStats, some of required attributes are not set " + attributes;
+    }
+  }
+}
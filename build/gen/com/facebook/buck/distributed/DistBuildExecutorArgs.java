@@ -0,0 +1,1528 @@
+package com.facebook.buck.distributed;
+
+import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.distributed.thrift.StampedeId;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.io.filesystem.ProjectFilesystemFactory;
+import com.facebook.buck.parser.Parser;
+import com.facebook.buck.rules.ActionGraphCache;
+import com.facebook.buck.rules.BuildInfoStoreManager;
+import com.facebook.buck.step.ExecutorPool;
+import com.facebook.buck.timing.Clock;
+import com.facebook.buck.util.Console;
+import com.facebook.buck.util.concurrent.WeightedListeningExecutorService;
+import com.facebook.buck.util.environment.Platform;
+import com.facebook.buck.versions.VersionedTargetGraphCache;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractDistBuildExecutorArgs}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DistBuildExecutorArgs.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDistBuildExecutorArgs"})
+@Immutable
+public final class DistBuildExecutorArgs extends AbstractDistBuildExecutorArgs {
+  private final DistBuildState state;
+  private final Parser parser;
+  private final BuckEventBus buckEventBus;
+  private final WeightedListeningExecutorService executorService;
+  private final ActionGraphCache actionGraphCache;
+  private final int cacheKeySeed;
+  private final Console console;
+  private final ArtifactCache artifactCache;
+  private final Platform platform;
+  private final Clock clock;
+  private final ImmutableMap<ExecutorPool, ListeningExecutorService> executors;
+  private final FileContentsProvider provider;
+  private final DistBuildMode distBuildMode;
+  private final int remoteCoordinatorPort;
+  private final StampedeId stampedeId;
+  private final String remoteCoordinatorAddress;
+  private final VersionedTargetGraphCache versionedTargetGraphCache;
+  private final BuildInfoStoreManager buildInfoStoreManager;
+  private final DistBuildService distBuildService;
+  private final DistBuildConfig distBuildConfig;
+  private final ProjectFilesystemFactory projectFilesystemFactory;
+
+  private DistBuildExecutorArgs(
+      DistBuildState state,
+      Parser parser,
+      BuckEventBus buckEventBus,
+      WeightedListeningExecutorService executorService,
+      ActionGraphCache actionGraphCache,
+      int cacheKeySeed,
+      Console console,
+      ArtifactCache artifactCache,
+      Platform platform,
+      Clock clock,
+      ImmutableMap<ExecutorPool, ListeningExecutorService> executors,
+      FileContentsProvider provider,
+      DistBuildMode distBuildMode,
+      int remoteCoordinatorPort,
+      StampedeId stampedeId,
+      String remoteCoordinatorAddress,
+      VersionedTargetGraphCache versionedTargetGraphCache,
+      BuildInfoStoreManager buildInfoStoreManager,
+      DistBuildService distBuildService,
+      DistBuildConfig distBuildConfig,
+      ProjectFilesystemFactory projectFilesystemFactory) {
+    this.state = state;
+    this.parser = parser;
+    this.buckEventBus = buckEventBus;
+    this.executorService = executorService;
+    this.actionGraphCache = actionGraphCache;
+    this.cacheKeySeed = cacheKeySeed;
+    this.console = console;
+    this.artifactCache = artifactCache;
+    this.platform = platform;
+    this.clock = clock;
+    this.executors = executors;
+    this.provider = provider;
+    this.distBuildMode = distBuildMode;
+    this.remoteCoordinatorPort = remoteCoordinatorPort;
+    this.stampedeId = stampedeId;
+    this.remoteCoordinatorAddress = remoteCoordinatorAddress;
+    this.versionedTargetGraphCache = versionedTargetGraphCache;
+    this.buildInfoStoreManager = buildInfoStoreManager;
+    this.distBuildService = distBuildService;
+    this.distBuildConfig = distBuildConfig;
+    this.projectFilesystemFactory = projectFilesystemFactory;
+  }
+
+  /**
+   * @return The value of the {@code state} attribute
+   */
+  @Override
+  public DistBuildState getState() {
+    return state;
+  }
+
+  /**
+   * @return The value of the {@code parser} attribute
+   */
+  @Override
+  public Parser getParser() {
+    return parser;
+  }
+
+  /**
+   * @return The value of the {@code buckEventBus} attribute
+   */
+  @Override
+  public BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return The value of the {@code executorService} attribute
+   */
+  @Override
+  public WeightedListeningExecutorService getExecutorService() {
+    return executorService;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphCache} attribute
+   */
+  @Override
+  public ActionGraphCache getActionGraphCache() {
+    return actionGraphCache;
+  }
+
+  /**
+   * @return The value of the {@code cacheKeySeed} attribute
+   */
+  @Override
+  public int getCacheKeySeed() {
+    return cacheKeySeed;
+  }
+
+  /**
+   * @return The value of the {@code console} attribute
+   */
+  @Override
+  public Console getConsole() {
+    return console;
+  }
+
+  /**
+   * @return The value of the {@code artifactCache} attribute
+   */
+  @Override
+  public ArtifactCache getArtifactCache() {
+    return artifactCache;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Platform getPlatform() {
+    return platform;
+  }
+
+  /**
+   * @return The value of the {@code clock} attribute
+   */
+  @Override
+  public Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * @return The value of the {@code executors} attribute
+   */
+  @Override
+  public ImmutableMap<ExecutorPool, ListeningExecutorService> getExecutors() {
+    return executors;
+  }
+
+  /**
+   * @return The value of the {@code provider} attribute
+   */
+  @Override
+  public FileContentsProvider getProvider() {
+    return provider;
+  }
+
+  /**
+   * @return The value of the {@code distBuildMode} attribute
+   */
+  @Override
+  public DistBuildMode getDistBuildMode() {
+    return distBuildMode;
+  }
+
+  /**
+   * @return The value of the {@code remoteCoordinatorPort} attribute
+   */
+  @Override
+  public int getRemoteCoordinatorPort() {
+    return remoteCoordinatorPort;
+  }
+
+  /**
+   * @return The value of the {@code stampedeId} attribute
+   */
+  @Override
+  public StampedeId getStampedeId() {
+    return stampedeId;
+  }
+
+  /**
+   * @return The value of the {@code remoteCoordinatorAddress} attribute
+   */
+  @Override
+  public String getRemoteCoordinatorAddress() {
+    return remoteCoordinatorAddress;
+  }
+
+  /**
+   * @return The value of the {@code versionedTargetGraphCache} attribute
+   */
+  @Override
+  public VersionedTargetGraphCache getVersionedTargetGraphCache() {
+    return versionedTargetGraphCache;
+  }
+
+  /**
+   * @return The value of the {@code buildInfoStoreManager} attribute
+   */
+  @Override
+  public BuildInfoStoreManager getBuildInfoStoreManager() {
+    return buildInfoStoreManager;
+  }
+
+  /**
+   * @return The value of the {@code distBuildService} attribute
+   */
+  @Override
+  public DistBuildService getDistBuildService() {
+    return distBuildService;
+  }
+
+  /**
+   * @return The value of the {@code distBuildConfig} attribute
+   */
+  @Override
+  public DistBuildConfig getDistBuildConfig() {
+    return distBuildConfig;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystemFactory} attribute
+   */
+  @Override
+  public ProjectFilesystemFactory getProjectFilesystemFactory() {
+    return projectFilesystemFactory;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getState() state} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for state
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withState(DistBuildState value) {
+    if (this.state == value) return this;
+    DistBuildState newValue = Objects.requireNonNull(value, "state");
+    return new DistBuildExecutorArgs(
+        newValue,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getParser() parser} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for parser
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withParser(Parser value) {
+    if (this.parser == value) return this;
+    Parser newValue = Objects.requireNonNull(value, "parser");
+    return new DistBuildExecutorArgs(
+        this.state,
+        newValue,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getBuckEventBus() buckEventBus} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckEventBus
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withBuckEventBus(BuckEventBus value) {
+    if (this.buckEventBus == value) return this;
+    BuckEventBus newValue = Objects.requireNonNull(value, "buckEventBus");
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        newValue,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getExecutorService() executorService} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for executorService
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withExecutorService(WeightedListeningExecutorService value) {
+    if (this.executorService == value) return this;
+    WeightedListeningExecutorService newValue = Objects.requireNonNull(value, "executorService");
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        newValue,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getActionGraphCache() actionGraphCache} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for actionGraphCache
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withActionGraphCache(ActionGraphCache value) {
+    if (this.actionGraphCache == value) return this;
+    ActionGraphCache newValue = Objects.requireNonNull(value, "actionGraphCache");
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        newValue,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getCacheKeySeed() cacheKeySeed} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cacheKeySeed
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withCacheKeySeed(int value) {
+    if (this.cacheKeySeed == value) return this;
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        value,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getConsole() console} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for console
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withConsole(Console value) {
+    if (this.console == value) return this;
+    Console newValue = Objects.requireNonNull(value, "console");
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        newValue,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getArtifactCache() artifactCache} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for artifactCache
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withArtifactCache(ArtifactCache value) {
+    if (this.artifactCache == value) return this;
+    ArtifactCache newValue = Objects.requireNonNull(value, "artifactCache");
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        newValue,
+        this.platform,
+        this.clock,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getPlatform() platform} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platform
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withPlatform(Platform value) {
+    if (this.platform == value) return this;
+    Platform newValue = Objects.requireNonNull(value, "platform");
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        newValue,
+        this.clock,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getClock() clock} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for clock
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withClock(Clock value) {
+    if (this.clock == value) return this;
+    Clock newValue = Objects.requireNonNull(value, "clock");
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        newValue,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractDistBuildExecutorArgs#getExecutors() executors} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the executors map
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildExecutorArgs withExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> entries) {
+    if (this.executors == entries) return this;
+    ImmutableMap<ExecutorPool, ListeningExecutorService> newValue = Maps.immutableEnumMap(entries);
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        newValue,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getProvider() provider} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for provider
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withProvider(FileContentsProvider value) {
+    if (this.provider == value) return this;
+    FileContentsProvider newValue = Objects.requireNonNull(value, "provider");
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        this.executors,
+        newValue,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getDistBuildMode() distBuildMode} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for distBuildMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withDistBuildMode(DistBuildMode value) {
+    if (this.distBuildMode == value) return this;
+    DistBuildMode newValue = Objects.requireNonNull(value, "distBuildMode");
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        this.executors,
+        this.provider,
+        newValue,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getRemoteCoordinatorPort() remoteCoordinatorPort} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for remoteCoordinatorPort
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withRemoteCoordinatorPort(int value) {
+    if (this.remoteCoordinatorPort == value) return this;
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        value,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getStampedeId() stampedeId} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for stampedeId
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withStampedeId(StampedeId value) {
+    if (this.stampedeId == value) return this;
+    StampedeId newValue = Objects.requireNonNull(value, "stampedeId");
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        newValue,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getRemoteCoordinatorAddress() remoteCoordinatorAddress} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for remoteCoordinatorAddress
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withRemoteCoordinatorAddress(String value) {
+    if (this.remoteCoordinatorAddress.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "remoteCoordinatorAddress");
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        newValue,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getVersionedTargetGraphCache() versionedTargetGraphCache} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for versionedTargetGraphCache
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withVersionedTargetGraphCache(VersionedTargetGraphCache value) {
+    if (this.versionedTargetGraphCache == value) return this;
+    VersionedTargetGraphCache newValue = Objects.requireNonNull(value, "versionedTargetGraphCache");
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        newValue,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getBuildInfoStoreManager() buildInfoStoreManager} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildInfoStoreManager
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withBuildInfoStoreManager(BuildInfoStoreManager value) {
+    if (this.buildInfoStoreManager == value) return this;
+    BuildInfoStoreManager newValue = Objects.requireNonNull(value, "buildInfoStoreManager");
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        newValue,
+        this.distBuildService,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getDistBuildService() distBuildService} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for distBuildService
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withDistBuildService(DistBuildService value) {
+    if (this.distBuildService == value) return this;
+    DistBuildService newValue = Objects.requireNonNull(value, "distBuildService");
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        newValue,
+        this.distBuildConfig,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getDistBuildConfig() distBuildConfig} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for distBuildConfig
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withDistBuildConfig(DistBuildConfig value) {
+    if (this.distBuildConfig == value) return this;
+    DistBuildConfig newValue = Objects.requireNonNull(value, "distBuildConfig");
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        newValue,
+        this.projectFilesystemFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDistBuildExecutorArgs#getProjectFilesystemFactory() projectFilesystemFactory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectFilesystemFactory
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildExecutorArgs withProjectFilesystemFactory(ProjectFilesystemFactory value) {
+    if (this.projectFilesystemFactory == value) return this;
+    ProjectFilesystemFactory newValue = Objects.requireNonNull(value, "projectFilesystemFactory");
+    return new DistBuildExecutorArgs(
+        this.state,
+        this.parser,
+        this.buckEventBus,
+        this.executorService,
+        this.actionGraphCache,
+        this.cacheKeySeed,
+        this.console,
+        this.artifactCache,
+        this.platform,
+        this.clock,
+        this.executors,
+        this.provider,
+        this.distBuildMode,
+        this.remoteCoordinatorPort,
+        this.stampedeId,
+        this.remoteCoordinatorAddress,
+        this.versionedTargetGraphCache,
+        this.buildInfoStoreManager,
+        this.distBuildService,
+        this.distBuildConfig,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DistBuildExecutorArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DistBuildExecutorArgs
+        && equalTo((DistBuildExecutorArgs) another);
+  }
+
+  private boolean equalTo(DistBuildExecutorArgs another) {
+    return state.equals(another.state)
+        && parser.equals(another.parser)
+        && buckEventBus.equals(another.buckEventBus)
+        && executorService.equals(another.executorService)
+        && actionGraphCache.equals(another.actionGraphCache)
+        && cacheKeySeed == another.cacheKeySeed
+        && console.equals(another.console)
+        && artifactCache.equals(another.artifactCache)
+        && platform.equals(another.platform)
+        && clock.equals(another.clock)
+        && executors.equals(another.executors)
+        && provider.equals(another.provider)
+        && distBuildMode.equals(another.distBuildMode)
+        && remoteCoordinatorPort == another.remoteCoordinatorPort
+        && stampedeId.equals(another.stampedeId)
+        && remoteCoordinatorAddress.equals(another.remoteCoordinatorAddress)
+        && versionedTargetGraphCache.equals(another.versionedTargetGraphCache)
+        && buildInfoStoreManager.equals(another.buildInfoStoreManager)
+        && distBuildService.equals(another.distBuildService)
+        && distBuildConfig.equals(another.distBuildConfig)
+        && projectFilesystemFactory.equals(another.projectFilesystemFactory);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code state}, {@code parser}, {@code buckEventBus}, {@code executorService}, {@code actionGraphCache}, {@code cacheKeySeed}, {@code console}, {@code artifactCache}, {@code platform}, {@code clock}, {@code executors}, {@code provider}, {@code distBuildMode}, {@code remoteCoordinatorPort}, {@code stampedeId}, {@code remoteCoordinatorAddress}, {@code versionedTargetGraphCache}, {@code buildInfoStoreManager}, {@code distBuildService}, {@code distBuildConfig}, {@code projectFilesystemFactory}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + state.hashCode();
+    h += (h << 5) + parser.hashCode();
+    h += (h << 5) + buckEventBus.hashCode();
+    h += (h << 5) + executorService.hashCode();
+    h += (h << 5) + actionGraphCache.hashCode();
+    h += (h << 5) + cacheKeySeed;
+    h += (h << 5) + console.hashCode();
+    h += (h << 5) + artifactCache.hashCode();
+    h += (h << 5) + platform.hashCode();
+    h += (h << 5) + clock.hashCode();
+    h += (h << 5) + executors.hashCode();
+    h += (h << 5) + provider.hashCode();
+    h += (h << 5) + distBuildMode.hashCode();
+    h += (h << 5) + remoteCoordinatorPort;
+    h += (h << 5) + stampedeId.hashCode();
+    h += (h << 5) + remoteCoordinatorAddress.hashCode();
+    h += (h << 5) + versionedTargetGraphCache.hashCode();
+    h += (h << 5) + buildInfoStoreManager.hashCode();
+    h += (h << 5) + distBuildService.hashCode();
+    h += (h << 5) + distBuildConfig.hashCode();
+    h += (h << 5) + projectFilesystemFactory.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DistBuildExecutorArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DistBuildExecutorArgs")
+        .omitNullValues()
+        .add("state", state)
+        .add("parser", parser)
+        .add("buckEventBus", buckEventBus)
+        .add("executorService", executorService)
+        .add("actionGraphCache", actionGraphCache)
+        .add("cacheKeySeed", cacheKeySeed)
+        .add("console", console)
+        .add("artifactCache", artifactCache)
+        .add("platform", platform)
+        .add("clock", clock)
+        .add("executors", executors)
+        .add("provider", provider)
+        .add("distBuildMode", distBuildMode)
+        .add("remoteCoordinatorPort", remoteCoordinatorPort)
+        .add("stampedeId", stampedeId)
+        .add("remoteCoordinatorAddress", remoteCoordinatorAddress)
+        .add("versionedTargetGraphCache", versionedTargetGraphCache)
+        .add("buildInfoStoreManager", buildInfoStoreManager)
+        .add("distBuildService", distBuildService)
+        .add("distBuildConfig", distBuildConfig)
+        .add("projectFilesystemFactory", projectFilesystemFactory)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractDistBuildExecutorArgs} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DistBuildExecutorArgs instance
+   */
+  static DistBuildExecutorArgs copyOf(AbstractDistBuildExecutorArgs instance) {
+    if (instance instanceof DistBuildExecutorArgs) {
+      return (DistBuildExecutorArgs) instance;
+    }
+    return DistBuildExecutorArgs.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DistBuildExecutorArgs DistBuildExecutorArgs}.
+   * @return A new DistBuildExecutorArgs builder
+   */
+  public static DistBuildExecutorArgs.Builder builder() {
+    return new DistBuildExecutorArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DistBuildExecutorArgs DistBuildExecutorArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_STATE = 0x1L;
+    private static final long INIT_BIT_PARSER = 0x2L;
+    private static final long INIT_BIT_BUCK_EVENT_BUS = 0x4L;
+    private static final long INIT_BIT_EXECUTOR_SERVICE = 0x8L;
+    private static final long INIT_BIT_ACTION_GRAPH_CACHE = 0x10L;
+    private static final long INIT_BIT_CACHE_KEY_SEED = 0x20L;
+    private static final long INIT_BIT_CONSOLE = 0x40L;
+    private static final long INIT_BIT_ARTIFACT_CACHE = 0x80L;
+    private static final long INIT_BIT_PLATFORM = 0x100L;
+    private static final long INIT_BIT_CLOCK = 0x200L;
+    private static final long INIT_BIT_PROVIDER = 0x400L;
+    private static final long INIT_BIT_DIST_BUILD_MODE = 0x800L;
+    private static final long INIT_BIT_REMOTE_COORDINATOR_PORT = 0x1000L;
+    private static final long INIT_BIT_STAMPEDE_ID = 0x2000L;
+    private static final long INIT_BIT_REMOTE_COORDINATOR_ADDRESS = 0x4000L;
+    private static final long INIT_BIT_VERSIONED_TARGET_GRAPH_CACHE = 0x8000L;
+    private static final long INIT_BIT_BUILD_INFO_STORE_MANAGER = 0x10000L;
+    private static final long INIT_BIT_DIST_BUILD_SERVICE = 0x20000L;
+    private static final long INIT_BIT_DIST_BUILD_CONFIG = 0x40000L;
+    private static final long INIT_BIT_PROJECT_FILESYSTEM_FACTORY = 0x80000L;
+    private long initBits = 0xfffffL;
+
+    private @Nullable DistBuildState state;
+    private @Nullable Parser parser;
+    private @Nullable BuckEventBus buckEventBus;
+    private @Nullable WeightedListeningExecutorService executorService;
+    private @Nullable ActionGraphCache actionGraphCache;
+    private int cacheKeySeed;
+    private @Nullable Console console;
+    private @Nullable ArtifactCache artifactCache;
+    private @Nullable Platform platform;
+    private @Nullable Clock clock;
+    private ImmutableMap.Builder<ExecutorPool, ListeningExecutorService> executors = ImmutableMap.builder();
+    private @Nullable FileContentsProvider provider;
+    private @Nullable DistBuildMode distBuildMode;
+    private int remoteCoordinatorPort;
+    private @Nullable StampedeId stampedeId;
+    private @Nullable String remoteCoordinatorAddress;
+    private @Nullable VersionedTargetGraphCache versionedTargetGraphCache;
+    private @Nullable BuildInfoStoreManager buildInfoStoreManager;
+    private @Nullable DistBuildService distBuildService;
+    private @Nullable DistBuildConfig distBuildConfig;
+    private @Nullable ProjectFilesystemFactory projectFilesystemFactory;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DistBuildExecutorArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DistBuildExecutorArgs instance) {
+      return from((AbstractDistBuildExecutorArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDistBuildExecutorArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractDistBuildExecutorArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setState(instance.getState());
+      setParser(instance.getParser());
+      setBuckEventBus(instance.getBuckEventBus());
+      setExecutorService(instance.getExecutorService());
+      setActionGraphCache(instance.getActionGraphCache());
+      setCacheKeySeed(instance.getCacheKeySeed());
+      setConsole(instance.getConsole());
+      setArtifactCache(instance.getArtifactCache());
+      setPlatform(instance.getPlatform());
+      setClock(instance.getClock());
+      putAllExecutors(instance.getExecutors());
+      setProvider(instance.getProvider());
+      setDistBuildMode(instance.getDistBuildMode());
+      setRemoteCoordinatorPort(instance.getRemoteCoordinatorPort());
+      setStampedeId(instance.getStampedeId());
+      setRemoteCoordinatorAddress(instance.getRemoteCoordinatorAddress());
+      setVersionedTargetGraphCache(instance.getVersionedTargetGraphCache());
+      setBuildInfoStoreManager(instance.getBuildInfoStoreManager());
+      setDistBuildService(instance.getDistBuildService());
+      setDistBuildConfig(instance.getDistBuildConfig());
+      setProjectFilesystemFactory(instance.getProjectFilesystemFactory());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getState() state} attribute.
+     * @param state The value for state 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setState(DistBuildState state) {
+      this.state = Objects.requireNonNull(state, "state");
+      initBits &= ~INIT_BIT_STATE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getParser() parser} attribute.
+     * @param parser The value for parser 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setParser(Parser parser) {
+      this.parser = Objects.requireNonNull(parser, "parser");
+      initBits &= ~INIT_BIT_PARSER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getBuckEventBus() buckEventBus} attribute.
+     * @param buckEventBus The value for buckEventBus 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuckEventBus(BuckEventBus buckEventBus) {
+      this.buckEventBus = Objects.requireNonNull(buckEventBus, "buckEventBus");
+      initBits &= ~INIT_BIT_BUCK_EVENT_BUS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getExecutorService() executorService} attribute.
+     * @param executorService The value for executorService 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExecutorService(WeightedListeningExecutorService executorService) {
+      this.executorService = Objects.requireNonNull(executorService, "executorService");
+      initBits &= ~INIT_BIT_EXECUTOR_SERVICE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getActionGraphCache() actionGraphCache} attribute.
+     * @param actionGraphCache The value for actionGraphCache 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setActionGraphCache(ActionGraphCache actionGraphCache) {
+      this.actionGraphCache = Objects.requireNonNull(actionGraphCache, "actionGraphCache");
+      initBits &= ~INIT_BIT_ACTION_GRAPH_CACHE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getCacheKeySeed() cacheKeySeed} attribute.
+     * @param cacheKeySeed The value for cacheKeySeed 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCacheKeySeed(int cacheKeySeed) {
+      this.cacheKeySeed = cacheKeySeed;
+      initBits &= ~INIT_BIT_CACHE_KEY_SEED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getConsole() console} attribute.
+     * @param console The value for console 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setConsole(Console console) {
+      this.console = Objects.requireNonNull(console, "console");
+      initBits &= ~INIT_BIT_CONSOLE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getArtifactCache() artifactCache} attribute.
+     * @param artifactCache The value for artifactCache 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setArtifactCache(ArtifactCache artifactCache) {
+      this.artifactCache = Objects.requireNonNull(artifactCache, "artifactCache");
+      initBits &= ~INIT_BIT_ARTIFACT_CACHE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getPlatform() platform} attribute.
+     * @param platform The value for platform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatform(Platform platform) {
+      this.platform = Objects.requireNonNull(platform, "platform");
+      initBits &= ~INIT_BIT_PLATFORM;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getClock() clock} attribute.
+     * @param clock The value for clock 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setClock(Clock clock) {
+      this.clock = Objects.requireNonNull(clock, "clock");
+      initBits &= ~INIT_BIT_CLOCK;
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link AbstractDistBuildExecutorArgs#getExecutors() executors} map.
+     * @param key The key in the executors map
+     * @param value The associated value in the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putExecutors(ExecutorPool key, ListeningExecutorService value) {
+      this.executors.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractDistBuildExecutorArgs#getExecutors() executors} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putExecutors(Map.Entry<ExecutorPool, ? extends ListeningExecutorService> entry) {
+      this.executors.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractDistBuildExecutorArgs#getExecutors() executors} map. Nulls are not permitted
+     * @param executors The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> executors) {
+      this.executors = ImmutableMap.builder();
+      return putAllExecutors(executors);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractDistBuildExecutorArgs#getExecutors() executors} map. Nulls are not permitted
+     * @param executors The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> executors) {
+      this.executors.putAll(executors);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getProvider() provider} attribute.
+     * @param provider The value for provider 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProvider(FileContentsProvider provider) {
+      this.provider = Objects.requireNonNull(provider, "provider");
+      initBits &= ~INIT_BIT_PROVIDER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getDistBuildMode() distBuildMode} attribute.
+     * @param distBuildMode The value for distBuildMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDistBuildMode(DistBuildMode distBuildMode) {
+      this.distBuildMode = Objects.requireNonNull(distBuildMode, "distBuildMode");
+      initBits &= ~INIT_BIT_DIST_BUILD_MODE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getRemoteCoordinatorPort() remoteCoordinatorPort} attribute.
+     * @param remoteCoordinatorPort The value for remoteCoordinatorPort 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRemoteCoordinatorPort(int remoteCoordinatorPort) {
+      this.remoteCoordinatorPort = remoteCoordinatorPort;
+      initBits &= ~INIT_BIT_REMOTE_COORDINATOR_PORT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getStampedeId() stampedeId} attribute.
+     * @param stampedeId The value for stampedeId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStampedeId(StampedeId stampedeId) {
+      this.stampedeId = Objects.requireNonNull(stampedeId, "stampedeId");
+      initBits &= ~INIT_BIT_STAMPEDE_ID;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getRemoteCoordinatorAddress() remoteCoordinatorAddress} attribute.
+     * @param remoteCoordinatorAddress The value for remoteCoordinatorAddress 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRemoteCoordinatorAddress(String remoteCoordinatorAddress) {
+      this.remoteCoordinatorAddress = Objects.requireNonNull(remoteCoordinatorAddress, "remoteCoordinatorAddress");
+      initBits &= ~INIT_BIT_REMOTE_COORDINATOR_ADDRESS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getVersionedTargetGraphCache() versionedTargetGraphCache} attribute.
+     * @param versionedTargetGraphCache The value for versionedTargetGraphCache 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionedTargetGraphCache(VersionedTargetGraphCache versionedTargetGraphCache) {
+      this.versionedTargetGraphCache = Objects.requireNonNull(versionedTargetGraphCache, "versionedTargetGraphCache");
+      initBits &= ~INIT_BIT_VERSIONED_TARGET_GRAPH_CACHE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getBuildInfoStoreManager() buildInfoStoreManager} attribute.
+     * @param buildInfoStoreManager The value for buildInfoStoreManager 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildInfoStoreManager(BuildInfoStoreManager buildInfoStoreManager) {
+      this.buildInfoStoreManager = Objects.requireNonNull(buildInfoStoreManager, "buildInfoStoreManager");
+      initBits &= ~INIT_BIT_BUILD_INFO_STORE_MANAGER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getDistBuildService() distBuildService} attribute.
+     * @param distBuildService The value for distBuildService 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDistBuildService(DistBuildService distBuildService) {
+      this.distBuildService = Objects.requireNonNull(distBuildService, "distBuildService");
+      initBits &= ~INIT_BIT_DIST_BUILD_SERVICE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getDistBuildConfig() distBuildConfig} attribute.
+     * @param distBuildConfig The value for distBuildConfig 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDistBuildConfig(DistBuildConfig distBuildConfig) {
+      this.distBuildConfig = Objects.requireNonNull(distBuildConfig, "distBuildConfig");
+      initBits &= ~INIT_BIT_DIST_BUILD_CONFIG;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildExecutorArgs#getProjectFilesystemFactory() projectFilesystemFactory} attribute.
+     * @param projectFilesystemFactory The value for projectFilesystemFactory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectFilesystemFactory(ProjectFilesystemFactory projectFilesystemFactory) {
+      this.projectFilesystemFactory = Objects.requireNonNull(projectFilesystemFactory, "projectFilesystemFactory");
+      initBits &= ~INIT_BIT_PROJECT_FILESYSTEM_FACTORY;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DistBuildExecutorArgs DistBuildExecutorArgs}.
+     * @return An immutable instance of DistBuildExecutorArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DistBuildExecutorArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DistBuildExecutorArgs(
+          state,
+          parser,
+          buckEventBus,
+          executorService,
+          actionGraphCache,
+          cacheKeySeed,
+          console,
+          artifactCache,
+          platform,
+          clock,
+          Maps.immutableEnumMap(executors.build()),
+          provider,
+          distBuildMode,
+          remoteCoordinatorPort,
+          stampedeId,
+          remoteCoordinatorAddress,
+          versionedTargetGraphCache,
+          buildInfoStoreManager,
+          distBuildService,
+          distBuildConfig,
+          projectFilesystemFactory);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_STATE) != 0) attributes.add("state");
+      if ((initBits & INIT_BIT_PARSER) != 0) attributes.add("parser");
+      if ((initBits & INIT_BIT_BUCK_EVENT_BUS) != 0) attributes.add("buckEventBus");
+      if ((initBits & INIT_BIT_EXECUTOR_SERVICE) != 0) attributes.add("executorService");
+      if ((initBits & INIT_BIT_ACTION_GRAPH_CACHE) != 0) attributes.add("actionGraphCache");
+      if ((initBits & INIT_BIT_CACHE_KEY_SEED) != 0) attributes.add("cacheKeySeed");
+      if ((initBits & INIT_BIT_CONSOLE) != 0) attributes.add("console");
+      if ((initBits & INIT_BIT_ARTIFACT_CACHE) != 0) attributes.add("artifactCache");
+      if ((initBits & INIT_BIT_PLATFORM) != 0) attributes.add("platform");
+      if ((initBits & INIT_BIT_CLOCK) != 0) attributes.add("clock");
+      if ((initBits & INIT_BIT_PROVIDER) != 0) attributes.add("provider");
+      if ((initBits & INIT_BIT_DIST_BUILD_MODE) != 0) attributes.add("distBuildMode");
+      if ((initBits & INIT_BIT_REMOTE_COORDINATOR_PORT) != 0) attributes.add("remoteCoordinatorPort");
+      if ((initBits & INIT_BIT_STAMPEDE_ID) != 0) attributes.add("stampedeId");
+      if ((initBits & INIT_BIT_REMOTE_COORDINATOR_ADDRESS) != 0) attributes.add("remoteCoordinatorAddress");
+      if ((initBits & INIT_BIT_VERSIONED_TARGET_GRAPH_CACHE) != 0) attributes.add("versionedTargetGraphCache");
+      if ((initBits & INIT_BIT_BUILD_INFO_STORE_MANAGER) != 0) attributes.add("buildInfoStoreManager");
+      if ((initBits & INIT_BIT_DIST_BUILD_SERVICE) != 0) attributes.add("distBuildService");
+      if ((initBits & INIT_BIT_DIST_BUILD_CONFIG) != 0) attributes.add("distBuildConfig");
+      if ((initBits & INIT_BIT_PROJECT_FILESYSTEM_FACTORY) != 0) attributes.add("projectFilesystemFactory");
+      return "Cannot build DistBuildExecutorArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,391 @@
+package com.facebook.buck.distributed;
+
+import com.facebook.buck.distributed.thrift.BuildSlaveStatus;
+import com.facebook.buck.distributed.thrift.LogRecord;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link DistBuildStatusEvent.AbstractDistBuildStatus}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DistBuildStatus.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "DistBuildStatusEvent.AbstractDistBuildStatus"})
+@Immutable
+public final class DistBuildStatus
+    extends DistBuildStatusEvent.AbstractDistBuildStatus {
+  private final String status;
+  private final @Nullable String message;
+  private final @Nullable List<LogRecord> logBook;
+  private final ImmutableList<BuildSlaveStatus> slaveStatuses;
+
+  private DistBuildStatus(
+      String status,
+      @Nullable String message,
+      @Nullable List<LogRecord> logBook,
+      ImmutableList<BuildSlaveStatus> slaveStatuses) {
+    this.status = status;
+    this.message = message;
+    this.logBook = logBook;
+    this.slaveStatuses = slaveStatuses;
+  }
+
+  /**
+   *@return dist-build status 
+   */
+  @Override
+  public String getStatus() {
+    return status;
+  }
+
+  /**
+   *@return the message to display 
+   */
+  @Override
+  public Optional<String> getMessage() {
+    return Optional.ofNullable(message);
+  }
+
+  /**
+   *@return the debug info received 
+   */
+  @Override
+  public Optional<List<LogRecord>> getLogBook() {
+    return Optional.ofNullable(logBook);
+  }
+
+  /**
+   *@return the status of each build slave 
+   */
+  @Override
+  public ImmutableList<BuildSlaveStatus> getSlaveStatuses() {
+    return slaveStatuses;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DistBuildStatusEvent.AbstractDistBuildStatus#getStatus() status} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for status
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildStatus withStatus(String value) {
+    if (this.status.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "status");
+    return new DistBuildStatus(newValue, this.message, this.logBook, this.slaveStatuses);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link DistBuildStatusEvent.AbstractDistBuildStatus#getMessage() message} attribute.
+   * @param value The value for message
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildStatus withMessage(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "message");
+    if (Objects.equals(this.message, newValue)) return this;
+    return new DistBuildStatus(this.status, newValue, this.logBook, this.slaveStatuses);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link DistBuildStatusEvent.AbstractDistBuildStatus#getMessage() message} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for message
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildStatus withMessage(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.message, value)) return this;
+    return new DistBuildStatus(this.status, value, this.logBook, this.slaveStatuses);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link DistBuildStatusEvent.AbstractDistBuildStatus#getLogBook() logBook} attribute.
+   * @param value The value for logBook
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildStatus withLogBook(List<LogRecord> value) {
+    @Nullable List<LogRecord> newValue = Objects.requireNonNull(value, "logBook");
+    if (this.logBook == newValue) return this;
+    return new DistBuildStatus(this.status, this.message, newValue, this.slaveStatuses);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link DistBuildStatusEvent.AbstractDistBuildStatus#getLogBook() logBook} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for logBook
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildStatus withLogBook(Optional<? extends List<LogRecord>> optional) {
+    @Nullable List<LogRecord> value = optional.orElse(null);
+    if (this.logBook == value) return this;
+    return new DistBuildStatus(this.status, this.message, value, this.slaveStatuses);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DistBuildStatusEvent.AbstractDistBuildStatus#getSlaveStatuses() slaveStatuses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildStatus withSlaveStatuses(BuildSlaveStatus... elements) {
+    ImmutableList<BuildSlaveStatus> newValue = ImmutableList.copyOf(elements);
+    return new DistBuildStatus(this.status, this.message, this.logBook, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DistBuildStatusEvent.AbstractDistBuildStatus#getSlaveStatuses() slaveStatuses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of slaveStatuses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildStatus withSlaveStatuses(Iterable<? extends BuildSlaveStatus> elements) {
+    if (this.slaveStatuses == elements) return this;
+    ImmutableList<BuildSlaveStatus> newValue = ImmutableList.copyOf(elements);
+    return new DistBuildStatus(this.status, this.message, this.logBook, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DistBuildStatus} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DistBuildStatus
+        && equalTo((DistBuildStatus) another);
+  }
+
+  private boolean equalTo(DistBuildStatus another) {
+    return status.equals(another.status)
+        && Objects.equals(message, another.message)
+        && Objects.equals(logBook, another.logBook)
+        && slaveStatuses.equals(another.slaveStatuses);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code status}, {@code message}, {@code logBook}, {@code slaveStatuses}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + status.hashCode();
+    h += (h << 5) + Objects.hashCode(message);
+    h += (h << 5) + Objects.hashCode(logBook);
+    h += (h << 5) + slaveStatuses.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DistBuildStatus} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DistBuildStatus")
+        .omitNullValues()
+        .add("status", status)
+        .add("message", message)
+        .add("logBook", logBook)
+        .add("slaveStatuses", slaveStatuses)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link DistBuildStatusEvent.AbstractDistBuildStatus} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DistBuildStatus instance
+   */
+  static DistBuildStatus copyOf(DistBuildStatusEvent.AbstractDistBuildStatus instance) {
+    if (instance instanceof DistBuildStatus) {
+      return (DistBuildStatus) instance;
+    }
+    return DistBuildStatus.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DistBuildStatus DistBuildStatus}.
+   * @return A new DistBuildStatus builder
+   */
+  public static DistBuildStatus.Builder builder() {
+    return new DistBuildStatus.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DistBuildStatus DistBuildStatus}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_STATUS = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String status;
+    private @Nullable String message;
+    private @Nullable List<LogRecord> logBook;
+    private ImmutableList.Builder<BuildSlaveStatus> slaveStatuses = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DistBuildStatus} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DistBuildStatus instance) {
+      return from((DistBuildStatusEvent.AbstractDistBuildStatus) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDistBuildStatus} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(DistBuildStatusEvent.AbstractDistBuildStatus instance) {
+      Objects.requireNonNull(instance, "instance");
+      setStatus(instance.getStatus());
+      Optional<String> messageOptional = instance.getMessage();
+      if (messageOptional.isPresent()) {
+        setMessage(messageOptional);
+      }
+      Optional<List<LogRecord>> logBookOptional = instance.getLogBook();
+      if (logBookOptional.isPresent()) {
+        setLogBook(logBookOptional);
+      }
+      addAllSlaveStatuses(instance.getSlaveStatuses());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildStatusEvent.AbstractDistBuildStatus#getStatus() status} attribute.
+     * @param status The value for status 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStatus(String status) {
+      this.status = Objects.requireNonNull(status, "status");
+      initBits &= ~INIT_BIT_STATUS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link DistBuildStatusEvent.AbstractDistBuildStatus#getMessage() message} to message.
+     * @param message The value for message
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMessage(String message) {
+      this.message = Objects.requireNonNull(message, "message");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildStatusEvent.AbstractDistBuildStatus#getMessage() message} to message.
+     * @param message The value for message
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMessage(Optional<String> message) {
+      this.message = message.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildStatusEvent.AbstractDistBuildStatus#getLogBook() logBook} to logBook.
+     * @param logBook The value for logBook
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLogBook(List<LogRecord> logBook) {
+      this.logBook = Objects.requireNonNull(logBook, "logBook");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildStatusEvent.AbstractDistBuildStatus#getLogBook() logBook} to logBook.
+     * @param logBook The value for logBook
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLogBook(Optional<? extends List<LogRecord>> logBook) {
+      this.logBook = logBook.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link DistBuildStatusEvent.AbstractDistBuildStatus#getSlaveStatuses() slaveStatuses} list.
+     * @param element A slaveStatuses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSlaveStatuses(BuildSlaveStatus element) {
+      this.slaveStatuses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link DistBuildStatusEvent.AbstractDistBuildStatus#getSlaveStatuses() slaveStatuses} list.
+     * @param elements An array of slaveStatuses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSlaveStatuses(BuildSlaveStatus... elements) {
+      this.slaveStatuses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DistBuildStatusEvent.AbstractDistBuildStatus#getSlaveStatuses() slaveStatuses} list.
+     * @param elements An iterable of slaveStatuses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSlaveStatuses(Iterable<? extends BuildSlaveStatus> elements) {
+      this.slaveStatuses = ImmutableList.builder();
+      return addAllSlaveStatuses(elements);
+    }
+
+    /**
+     * Adds elements to {@link DistBuildStatusEvent.AbstractDistBuildStatus#getSlaveStatuses() slaveStatuses} list.
+     * @param elements An iterable of slaveStatuses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSlaveStatuses(Iterable<? extends BuildSlaveStatus> elements) {
+      this.slaveStatuses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DistBuildStatus DistBuildStatus}.
+     * @return An immutable instance of DistBuildStatus
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DistBuildStatus build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DistBuildStatus(status, message, logBook, slaveStatuses.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_STATUS) != 0) attributes.add("status");
+      return "Cannot build DistBuildStatus, some of required attributes are not set " + attributes;
+    }
+  }
+}
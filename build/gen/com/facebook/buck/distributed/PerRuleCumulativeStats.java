@@ -0,0 +1,530 @@
+package com.facebook.buck.distributed;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PerRuleCumulativeStats.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats"})
+@Immutable
+public final class PerRuleCumulativeStats
+    extends DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats {
+  private final String ruleName;
+  private final String ruleType;
+  private final DistBuildPostBuildAnalysis.AbstractBuildRuleStats localBuild;
+  private final ImmutableList<DistBuildPostBuildAnalysis.AbstractBuildRuleStats> remoteBuilds;
+  private final int numRemoteBuilds;
+  private final boolean wasLocalFailure;
+  private final boolean wasLocalCacheMiss;
+
+  private PerRuleCumulativeStats(
+      String ruleName,
+      String ruleType,
+      DistBuildPostBuildAnalysis.AbstractBuildRuleStats localBuild,
+      ImmutableList<DistBuildPostBuildAnalysis.AbstractBuildRuleStats> remoteBuilds) {
+    this.ruleName = ruleName;
+    this.ruleType = ruleType;
+    this.localBuild = localBuild;
+    this.remoteBuilds = remoteBuilds;
+    this.numRemoteBuilds = initShim.numRemoteBuilds();
+    this.wasLocalFailure = initShim.wasLocalFailure();
+    this.wasLocalCacheMiss = initShim.wasLocalCacheMiss();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private int numRemoteBuilds;
+    private int numRemoteBuildsBuildStage;
+
+    int numRemoteBuilds() {
+      if (numRemoteBuildsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (numRemoteBuildsBuildStage == STAGE_UNINITIALIZED) {
+        numRemoteBuildsBuildStage = STAGE_INITIALIZING;
+        this.numRemoteBuilds = PerRuleCumulativeStats.super.numRemoteBuilds();
+        numRemoteBuildsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.numRemoteBuilds;
+    }
+    private boolean wasLocalFailure;
+    private int wasLocalFailureBuildStage;
+
+    boolean wasLocalFailure() {
+      if (wasLocalFailureBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (wasLocalFailureBuildStage == STAGE_UNINITIALIZED) {
+        wasLocalFailureBuildStage = STAGE_INITIALIZING;
+        this.wasLocalFailure = PerRuleCumulativeStats.super.wasLocalFailure();
+        wasLocalFailureBuildStage = STAGE_INITIALIZED;
+      }
+      return this.wasLocalFailure;
+    }
+    private boolean wasLocalCacheMiss;
+    private int wasLocalCacheMissBuildStage;
+
+    boolean wasLocalCacheMiss() {
+      if (wasLocalCacheMissBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (wasLocalCacheMissBuildStage == STAGE_UNINITIALIZED) {
+        wasLocalCacheMissBuildStage = STAGE_INITIALIZING;
+        this.wasLocalCacheMiss = PerRuleCumulativeStats.super.wasLocalCacheMiss();
+        wasLocalCacheMissBuildStage = STAGE_INITIALIZED;
+      }
+      return this.wasLocalCacheMiss;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (numRemoteBuildsBuildStage == STAGE_INITIALIZING) attributes.add("numRemoteBuilds");
+      if (wasLocalFailureBuildStage == STAGE_INITIALIZING) attributes.add("wasLocalFailure");
+      if (wasLocalCacheMissBuildStage == STAGE_INITIALIZING) attributes.add("wasLocalCacheMiss");
+      return "Cannot build PerRuleCumulativeStats, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code ruleName} attribute
+   */
+  @Override
+  public String ruleName() {
+    return ruleName;
+  }
+
+  /**
+   * @return The value of the {@code ruleType} attribute
+   */
+  @Override
+  public String ruleType() {
+    return ruleType;
+  }
+
+  /**
+   * @return The value of the {@code localBuild} attribute
+   */
+  @Override
+  public DistBuildPostBuildAnalysis.AbstractBuildRuleStats localBuild() {
+    return localBuild;
+  }
+
+  /**
+   * @return The value of the {@code remoteBuilds} attribute
+   */
+  @Override
+  public ImmutableList<DistBuildPostBuildAnalysis.AbstractBuildRuleStats> remoteBuilds() {
+    return remoteBuilds;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code numRemoteBuilds} attribute
+   */
+  @Override
+  public int numRemoteBuilds() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.numRemoteBuilds()
+        : this.numRemoteBuilds;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code wasLocalFailure} attribute
+   */
+  @Override
+  public boolean wasLocalFailure() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.wasLocalFailure()
+        : this.wasLocalFailure;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code wasLocalCacheMiss} attribute
+   */
+  @Override
+  public boolean wasLocalCacheMiss() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.wasLocalCacheMiss()
+        : this.wasLocalCacheMiss;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats#ruleName() ruleName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleName
+   * @return A modified copy of the {@code this} object
+   */
+  public final PerRuleCumulativeStats withRuleName(String value) {
+    if (this.ruleName.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "ruleName");
+    return new PerRuleCumulativeStats(newValue, this.ruleType, this.localBuild, this.remoteBuilds);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats#ruleType() ruleType} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleType
+   * @return A modified copy of the {@code this} object
+   */
+  public final PerRuleCumulativeStats withRuleType(String value) {
+    if (this.ruleType.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "ruleType");
+    return new PerRuleCumulativeStats(this.ruleName, newValue, this.localBuild, this.remoteBuilds);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats#localBuild() localBuild} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for localBuild
+   * @return A modified copy of the {@code this} object
+   */
+  public final PerRuleCumulativeStats withLocalBuild(DistBuildPostBuildAnalysis.AbstractBuildRuleStats value) {
+    if (this.localBuild == value) return this;
+    DistBuildPostBuildAnalysis.AbstractBuildRuleStats newValue = Objects.requireNonNull(value, "localBuild");
+    return new PerRuleCumulativeStats(this.ruleName, this.ruleType, newValue, this.remoteBuilds);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats#remoteBuilds() remoteBuilds}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PerRuleCumulativeStats withRemoteBuilds(DistBuildPostBuildAnalysis.AbstractBuildRuleStats... elements) {
+    ImmutableList<DistBuildPostBuildAnalysis.AbstractBuildRuleStats> newValue = ImmutableList.copyOf(elements);
+    return new PerRuleCumulativeStats(this.ruleName, this.ruleType, this.localBuild, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats#remoteBuilds() remoteBuilds}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of remoteBuilds elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PerRuleCumulativeStats withRemoteBuilds(Iterable<? extends DistBuildPostBuildAnalysis.AbstractBuildRuleStats> elements) {
+    if (this.remoteBuilds == elements) return this;
+    ImmutableList<DistBuildPostBuildAnalysis.AbstractBuildRuleStats> newValue = ImmutableList.copyOf(elements);
+    return new PerRuleCumulativeStats(this.ruleName, this.ruleType, this.localBuild, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PerRuleCumulativeStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PerRuleCumulativeStats
+        && equalTo((PerRuleCumulativeStats) another);
+  }
+
+  private boolean equalTo(PerRuleCumulativeStats another) {
+    return ruleName.equals(another.ruleName)
+        && ruleType.equals(another.ruleType)
+        && localBuild.equals(another.localBuild)
+        && remoteBuilds.equals(another.remoteBuilds)
+        && numRemoteBuilds == another.numRemoteBuilds
+        && wasLocalFailure == another.wasLocalFailure
+        && wasLocalCacheMiss == another.wasLocalCacheMiss;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleName}, {@code ruleType}, {@code localBuild}, {@code remoteBuilds}, {@code numRemoteBuilds}, {@code wasLocalFailure}, {@code wasLocalCacheMiss}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + ruleName.hashCode();
+    h += (h << 5) + ruleType.hashCode();
+    h += (h << 5) + localBuild.hashCode();
+    h += (h << 5) + remoteBuilds.hashCode();
+    h += (h << 5) + numRemoteBuilds;
+    h += (h << 5) + Booleans.hashCode(wasLocalFailure);
+    h += (h << 5) + Booleans.hashCode(wasLocalCacheMiss);
+    return h;
+  }
+
+  private volatile long lazyInitBitmap;
+
+  private static final long WAS_DEFAULT_RULE_KEY_MISMATCH_LAZY_INIT_BIT = 0x1L;
+
+  private boolean wasDefaultRuleKeyMismatch;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats#wasDefaultRuleKeyMismatch() wasDefaultRuleKeyMismatch} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean wasDefaultRuleKeyMismatch() {
+    if ((lazyInitBitmap & WAS_DEFAULT_RULE_KEY_MISMATCH_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WAS_DEFAULT_RULE_KEY_MISMATCH_LAZY_INIT_BIT) == 0) {
+          this.wasDefaultRuleKeyMismatch = super.wasDefaultRuleKeyMismatch();
+          lazyInitBitmap |= WAS_DEFAULT_RULE_KEY_MISMATCH_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return wasDefaultRuleKeyMismatch;
+  }
+
+  private static final long WAS_INPUT_RULE_KEY_MISMATCH_LAZY_INIT_BIT = 0x2L;
+
+  private boolean wasInputRuleKeyMismatch;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats#wasInputRuleKeyMismatch() wasInputRuleKeyMismatch} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean wasInputRuleKeyMismatch() {
+    if ((lazyInitBitmap & WAS_INPUT_RULE_KEY_MISMATCH_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WAS_INPUT_RULE_KEY_MISMATCH_LAZY_INIT_BIT) == 0) {
+          this.wasInputRuleKeyMismatch = super.wasInputRuleKeyMismatch();
+          lazyInitBitmap |= WAS_INPUT_RULE_KEY_MISMATCH_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return wasInputRuleKeyMismatch;
+  }
+
+  private static final long WAS_ANY_REMOTE_SUCCESSFUL_LAZY_INIT_BIT = 0x4L;
+
+  private boolean wasAnyRemoteSuccessful;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats#wasAnyRemoteSuccessful() wasAnyRemoteSuccessful} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean wasAnyRemoteSuccessful() {
+    if ((lazyInitBitmap & WAS_ANY_REMOTE_SUCCESSFUL_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WAS_ANY_REMOTE_SUCCESSFUL_LAZY_INIT_BIT) == 0) {
+          this.wasAnyRemoteSuccessful = super.wasAnyRemoteSuccessful();
+          lazyInitBitmap |= WAS_ANY_REMOTE_SUCCESSFUL_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return wasAnyRemoteSuccessful;
+  }
+
+  private static final long WAS_MISS_ON_MULTIPLE_SLAVES_LAZY_INIT_BIT = 0x8L;
+
+  private boolean wasMissOnMultipleSlaves;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats#wasMissOnMultipleSlaves() wasMissOnMultipleSlaves} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean wasMissOnMultipleSlaves() {
+    if ((lazyInitBitmap & WAS_MISS_ON_MULTIPLE_SLAVES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WAS_MISS_ON_MULTIPLE_SLAVES_LAZY_INIT_BIT) == 0) {
+          this.wasMissOnMultipleSlaves = super.wasMissOnMultipleSlaves();
+          lazyInitBitmap |= WAS_MISS_ON_MULTIPLE_SLAVES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return wasMissOnMultipleSlaves;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PerRuleCumulativeStats instance
+   */
+  static PerRuleCumulativeStats copyOf(DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats instance) {
+    if (instance instanceof PerRuleCumulativeStats) {
+      return (PerRuleCumulativeStats) instance;
+    }
+    return PerRuleCumulativeStats.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PerRuleCumulativeStats PerRuleCumulativeStats}.
+   * @return A new PerRuleCumulativeStats builder
+   */
+  public static PerRuleCumulativeStats.Builder builder() {
+    return new PerRuleCumulativeStats.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PerRuleCumulativeStats PerRuleCumulativeStats}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_RULE_NAME = 0x1L;
+    private static final long INIT_BIT_RULE_TYPE = 0x2L;
+    private static final long INIT_BIT_LOCAL_BUILD = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable String ruleName;
+    private @Nullable String ruleType;
+    private @Nullable DistBuildPostBuildAnalysis.AbstractBuildRuleStats localBuild;
+    private ImmutableList.Builder<DistBuildPostBuildAnalysis.AbstractBuildRuleStats> remoteBuilds = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PerRuleCumulativeStats} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PerRuleCumulativeStats instance) {
+      return from((DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPerRuleCumulativeStats} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      setRuleName(instance.ruleName());
+      setRuleType(instance.ruleType());
+      setLocalBuild(instance.localBuild());
+      addAllRemoteBuilds(instance.remoteBuilds());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats#ruleName() ruleName} attribute.
+     * @param ruleName The value for ruleName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRuleName(String ruleName) {
+      this.ruleName = Objects.requireNonNull(ruleName, "ruleName");
+      initBits &= ~INIT_BIT_RULE_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats#ruleType() ruleType} attribute.
+     * @param ruleType The value for ruleType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRuleType(String ruleType) {
+      this.ruleType = Objects.requireNonNull(ruleType, "ruleType");
+      initBits &= ~INIT_BIT_RULE_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats#localBuild() localBuild} attribute.
+     * @param localBuild The value for localBuild 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLocalBuild(DistBuildPostBuildAnalysis.AbstractBuildRuleStats localBuild) {
+      this.localBuild = Objects.requireNonNull(localBuild, "localBuild");
+      initBits &= ~INIT_BIT_LOCAL_BUILD;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats#remoteBuilds() remoteBuilds} list.
+     * @param element A remoteBuilds element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRemoteBuilds(DistBuildPostBuildAnalysis.AbstractBuildRuleStats element) {
+      this.remoteBuilds.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats#remoteBuilds() remoteBuilds} list.
+     * @param elements An array of remoteBuilds elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRemoteBuilds(DistBuildPostBuildAnalysis.AbstractBuildRuleStats... elements) {
+      this.remoteBuilds.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats#remoteBuilds() remoteBuilds} list.
+     * @param elements An iterable of remoteBuilds elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRemoteBuilds(Iterable<? extends DistBuildPostBuildAnalysis.AbstractBuildRuleStats> elements) {
+      this.remoteBuilds = ImmutableList.builder();
+      return addAllRemoteBuilds(elements);
+    }
+
+    /**
+     * Adds elements to {@link DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats#remoteBuilds() remoteBuilds} list.
+     * @param elements An iterable of remoteBuilds elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllRemoteBuilds(Iterable<? extends DistBuildPostBuildAnalysis.AbstractBuildRuleStats> elements) {
+      this.remoteBuilds.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PerRuleCumulativeStats PerRuleCumulativeStats}.
+     * @return An immutable instance of PerRuleCumulativeStats
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PerRuleCumulativeStats build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PerRuleCumulativeStats(ruleName, ruleType, localBuild, remoteBuilds.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_RULE_NAME) != 0) attributes.add("ruleName");
+      if ((initBits & INIT_BIT_RULE_TYPE) != 0) attributes.add("ruleType");
+      if ((initBits & INIT_BIT_LOCAL_BUILD) != 0) attributes.add("localBuild");
+      return "Cannot build PerRuleCumulativeStats, some of required attributes are not set " + attributes;
+    }
+  }
+}
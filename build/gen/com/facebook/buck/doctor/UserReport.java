@@ -0,0 +1,239 @@
+package com.facebook.buck.doctor;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractReport.AbstractUserReport}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code UserReport.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code UserReport.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractReport.AbstractUserReport"})
+@Immutable
+public final class UserReport implements AbstractReport.AbstractUserReport {
+  private final String userIssueDescription;
+  private final String issueCategory;
+
+  private UserReport(String userIssueDescription, String issueCategory) {
+    this.userIssueDescription = Objects.requireNonNull(userIssueDescription, "userIssueDescription");
+    this.issueCategory = Objects.requireNonNull(issueCategory, "issueCategory");
+  }
+
+  private UserReport(UserReport original, String userIssueDescription, String issueCategory) {
+    this.userIssueDescription = userIssueDescription;
+    this.issueCategory = issueCategory;
+  }
+
+  /**
+   * @return The value of the {@code userIssueDescription} attribute
+   */
+  @Override
+  public String getUserIssueDescription() {
+    return userIssueDescription;
+  }
+
+  /**
+   * @return The value of the {@code issueCategory} attribute
+   */
+  @Override
+  public String getIssueCategory() {
+    return issueCategory;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractReport.AbstractUserReport#getUserIssueDescription() userIssueDescription} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for userIssueDescription
+   * @return A modified copy of the {@code this} object
+   */
+  public final UserReport withUserIssueDescription(String value) {
+    if (this.userIssueDescription.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "userIssueDescription");
+    return new UserReport(this, newValue, this.issueCategory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractReport.AbstractUserReport#getIssueCategory() issueCategory} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for issueCategory
+   * @return A modified copy of the {@code this} object
+   */
+  public final UserReport withIssueCategory(String value) {
+    if (this.issueCategory.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "issueCategory");
+    return new UserReport(this, this.userIssueDescription, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code UserReport} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof UserReport
+        && equalTo((UserReport) another);
+  }
+
+  private boolean equalTo(UserReport another) {
+    return userIssueDescription.equals(another.userIssueDescription)
+        && issueCategory.equals(another.issueCategory);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code userIssueDescription}, {@code issueCategory}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + userIssueDescription.hashCode();
+    h += (h << 5) + issueCategory.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code UserReport} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("UserReport")
+        .omitNullValues()
+        .add("userIssueDescription", userIssueDescription)
+        .add("issueCategory", issueCategory)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code UserReport} instance.
+   * @param userIssueDescription The value for the {@code userIssueDescription} attribute
+   * @param issueCategory The value for the {@code issueCategory} attribute
+   * @return An immutable UserReport instance
+   */
+  public static UserReport of(String userIssueDescription, String issueCategory) {
+    return new UserReport(userIssueDescription, issueCategory);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractReport.AbstractUserReport} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable UserReport instance
+   */
+  static UserReport copyOf(AbstractReport.AbstractUserReport instance) {
+    if (instance instanceof UserReport) {
+      return (UserReport) instance;
+    }
+    return UserReport.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link UserReport UserReport}.
+   * @return A new UserReport builder
+   */
+  public static UserReport.Builder builder() {
+    return new UserReport.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link UserReport UserReport}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_USER_ISSUE_DESCRIPTION = 0x1L;
+    private static final long INIT_BIT_ISSUE_CATEGORY = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String userIssueDescription;
+    private @Nullable String issueCategory;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code UserReport} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(UserReport instance) {
+      return from((AbstractReport.AbstractUserReport) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractUserReport} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractReport.AbstractUserReport instance) {
+      Objects.requireNonNull(instance, "instance");
+      setUserIssueDescription(instance.getUserIssueDescription());
+      setIssueCategory(instance.getIssueCategory());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractReport.AbstractUserReport#getUserIssueDescription() userIssueDescription} attribute.
+     * @param userIssueDescription The value for userIssueDescription 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUserIssueDescription(String userIssueDescription) {
+      this.userIssueDescription = Objects.requireNonNull(userIssueDescription, "userIssueDescription");
+      initBits &= ~INIT_BIT_USER_ISSUE_DESCRIPTION;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractReport.AbstractUserReport#getIssueCategory() issueCategory} attribute.
+     * @param issueCategory The value for issueCategory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIssueCategory(String issueCategory) {
+      this.issueCategory = Objects.requireNonNull(issueCategory, "issueCategory");
+      initBits &= ~INIT_BIT_ISSUE_CATEGORY;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link UserReport UserReport}.
+     * @return An immutable instance of UserReport
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public UserReport build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new UserReport(null, userIssueDescription, issueCategory);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_USER_ISSUE_DESCRIPTION) != 0) attributes.add("userIssueDescription");
+      if ((initBits & INIT_BIT_ISSUE_CATEGORY) != 0) attributes.add("issueCategory");
+      return "Cannot build UserReport, some of required attributes are not set " + attributes;
+    }
+  }
+}
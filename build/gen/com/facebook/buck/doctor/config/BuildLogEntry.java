@@ -0,0 +1,995 @@
+package com.facebook.buck.doctor.config;
+
+import com.facebook.buck.model.BuildId;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractBuildLogEntry}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code BuildLogEntry.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildLogEntry"})
+@Immutable
+public final class BuildLogEntry extends AbstractBuildLogEntry {
+  private final Path relativePath;
+  private final @Nullable BuildId buildId;
+  private final @Nullable String commandArgs;
+  private final @Nullable Integer exitCode;
+  private final @Nullable Path ruleKeyLoggerLogFile;
+  private final @Nullable Path machineReadableLogFile;
+  private final @Nullable Path ruleKeyDiagKeysFile;
+  private final @Nullable Path ruleKeyDiagGraphFile;
+  private final @Nullable Path traceFile;
+  private final long size;
+  private final Date lastModifiedTime;
+
+  private BuildLogEntry(
+      Path relativePath,
+      @Nullable BuildId buildId,
+      @Nullable String commandArgs,
+      @Nullable Integer exitCode,
+      @Nullable Path ruleKeyLoggerLogFile,
+      @Nullable Path machineReadableLogFile,
+      @Nullable Path ruleKeyDiagKeysFile,
+      @Nullable Path ruleKeyDiagGraphFile,
+      @Nullable Path traceFile,
+      long size,
+      Date lastModifiedTime) {
+    this.relativePath = relativePath;
+    this.buildId = buildId;
+    this.commandArgs = commandArgs;
+    this.exitCode = exitCode;
+    this.ruleKeyLoggerLogFile = ruleKeyLoggerLogFile;
+    this.machineReadableLogFile = machineReadableLogFile;
+    this.ruleKeyDiagKeysFile = ruleKeyDiagKeysFile;
+    this.ruleKeyDiagGraphFile = ruleKeyDiagGraphFile;
+    this.traceFile = traceFile;
+    this.size = size;
+    this.lastModifiedTime = lastModifiedTime;
+  }
+
+  /**
+   * @return The value of the {@code relativePath} attribute
+   */
+  @Override
+  public Path getRelativePath() {
+    return relativePath;
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @Override
+  public Optional<BuildId> getBuildId() {
+    return Optional.ofNullable(buildId);
+  }
+
+  /**
+   * @return The value of the {@code commandArgs} attribute
+   */
+  @Override
+  public Optional<String> getCommandArgs() {
+    return Optional.ofNullable(commandArgs);
+  }
+
+  /**
+   * @return The value of the {@code exitCode} attribute
+   */
+  @Override
+  public OptionalInt getExitCode() {
+    return exitCode != null
+        ? OptionalInt.of(exitCode)
+        : OptionalInt.empty();
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyLoggerLogFile} attribute
+   */
+  @Override
+  public Optional<Path> getRuleKeyLoggerLogFile() {
+    return Optional.ofNullable(ruleKeyLoggerLogFile);
+  }
+
+  /**
+   * @return The value of the {@code machineReadableLogFile} attribute
+   */
+  @Override
+  public Optional<Path> getMachineReadableLogFile() {
+    return Optional.ofNullable(machineReadableLogFile);
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyDiagKeysFile} attribute
+   */
+  @Override
+  public Optional<Path> getRuleKeyDiagKeysFile() {
+    return Optional.ofNullable(ruleKeyDiagKeysFile);
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyDiagGraphFile} attribute
+   */
+  @Override
+  public Optional<Path> getRuleKeyDiagGraphFile() {
+    return Optional.ofNullable(ruleKeyDiagGraphFile);
+  }
+
+  /**
+   * @return The value of the {@code traceFile} attribute
+   */
+  @Override
+  public Optional<Path> getTraceFile() {
+    return Optional.ofNullable(traceFile);
+  }
+
+  /**
+   * @return The value of the {@code size} attribute
+   */
+  @Override
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * @return The value of the {@code lastModifiedTime} attribute
+   */
+  @Override
+  public Date getLastModifiedTime() {
+    return lastModifiedTime;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildLogEntry#getRelativePath() relativePath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for relativePath
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildLogEntry withRelativePath(Path value) {
+    if (this.relativePath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "relativePath");
+    return validate(new BuildLogEntry(
+        newValue,
+        this.buildId,
+        this.commandArgs,
+        this.exitCode,
+        this.ruleKeyLoggerLogFile,
+        this.machineReadableLogFile,
+        this.ruleKeyDiagKeysFile,
+        this.ruleKeyDiagGraphFile,
+        this.traceFile,
+        this.size,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractBuildLogEntry#getBuildId() buildId} attribute.
+   * @param value The value for buildId
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildLogEntry withBuildId(BuildId value) {
+    @Nullable BuildId newValue = Objects.requireNonNull(value, "buildId");
+    if (this.buildId == newValue) return this;
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        newValue,
+        this.commandArgs,
+        this.exitCode,
+        this.ruleKeyLoggerLogFile,
+        this.machineReadableLogFile,
+        this.ruleKeyDiagKeysFile,
+        this.ruleKeyDiagGraphFile,
+        this.traceFile,
+        this.size,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractBuildLogEntry#getBuildId() buildId} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for buildId
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildLogEntry withBuildId(Optional<? extends BuildId> optional) {
+    @Nullable BuildId value = optional.orElse(null);
+    if (this.buildId == value) return this;
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        value,
+        this.commandArgs,
+        this.exitCode,
+        this.ruleKeyLoggerLogFile,
+        this.machineReadableLogFile,
+        this.ruleKeyDiagKeysFile,
+        this.ruleKeyDiagGraphFile,
+        this.traceFile,
+        this.size,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractBuildLogEntry#getCommandArgs() commandArgs} attribute.
+   * @param value The value for commandArgs
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildLogEntry withCommandArgs(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "commandArgs");
+    if (Objects.equals(this.commandArgs, newValue)) return this;
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        this.buildId,
+        newValue,
+        this.exitCode,
+        this.ruleKeyLoggerLogFile,
+        this.machineReadableLogFile,
+        this.ruleKeyDiagKeysFile,
+        this.ruleKeyDiagGraphFile,
+        this.traceFile,
+        this.size,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractBuildLogEntry#getCommandArgs() commandArgs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for commandArgs
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildLogEntry withCommandArgs(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.commandArgs, value)) return this;
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        this.buildId,
+        value,
+        this.exitCode,
+        this.ruleKeyLoggerLogFile,
+        this.machineReadableLogFile,
+        this.ruleKeyDiagKeysFile,
+        this.ruleKeyDiagGraphFile,
+        this.traceFile,
+        this.size,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractBuildLogEntry#getExitCode() exitCode} attribute.
+   * @param value The value for exitCode
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildLogEntry withExitCode(int value) {
+    @Nullable Integer newValue = value;
+    if (Objects.equals(this.exitCode, newValue)) return this;
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        this.buildId,
+        this.commandArgs,
+        newValue,
+        this.ruleKeyLoggerLogFile,
+        this.machineReadableLogFile,
+        this.ruleKeyDiagKeysFile,
+        this.ruleKeyDiagGraphFile,
+        this.traceFile,
+        this.size,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractBuildLogEntry#getExitCode() exitCode} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for exitCode
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildLogEntry withExitCode(OptionalInt optional) {
+    @Nullable Integer value = optional.isPresent() ? optional.getAsInt() : null;
+    if (Objects.equals(this.exitCode, value)) return this;
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        this.buildId,
+        this.commandArgs,
+        value,
+        this.ruleKeyLoggerLogFile,
+        this.machineReadableLogFile,
+        this.ruleKeyDiagKeysFile,
+        this.ruleKeyDiagGraphFile,
+        this.traceFile,
+        this.size,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractBuildLogEntry#getRuleKeyLoggerLogFile() ruleKeyLoggerLogFile} attribute.
+   * @param value The value for ruleKeyLoggerLogFile
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildLogEntry withRuleKeyLoggerLogFile(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "ruleKeyLoggerLogFile");
+    if (this.ruleKeyLoggerLogFile == newValue) return this;
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        this.buildId,
+        this.commandArgs,
+        this.exitCode,
+        newValue,
+        this.machineReadableLogFile,
+        this.ruleKeyDiagKeysFile,
+        this.ruleKeyDiagGraphFile,
+        this.traceFile,
+        this.size,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractBuildLogEntry#getRuleKeyLoggerLogFile() ruleKeyLoggerLogFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for ruleKeyLoggerLogFile
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildLogEntry withRuleKeyLoggerLogFile(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.ruleKeyLoggerLogFile == value) return this;
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        this.buildId,
+        this.commandArgs,
+        this.exitCode,
+        value,
+        this.machineReadableLogFile,
+        this.ruleKeyDiagKeysFile,
+        this.ruleKeyDiagGraphFile,
+        this.traceFile,
+        this.size,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractBuildLogEntry#getMachineReadableLogFile() machineReadableLogFile} attribute.
+   * @param value The value for machineReadableLogFile
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildLogEntry withMachineReadableLogFile(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "machineReadableLogFile");
+    if (this.machineReadableLogFile == newValue) return this;
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        this.buildId,
+        this.commandArgs,
+        this.exitCode,
+        this.ruleKeyLoggerLogFile,
+        newValue,
+        this.ruleKeyDiagKeysFile,
+        this.ruleKeyDiagGraphFile,
+        this.traceFile,
+        this.size,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractBuildLogEntry#getMachineReadableLogFile() machineReadableLogFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for machineReadableLogFile
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildLogEntry withMachineReadableLogFile(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.machineReadableLogFile == value) return this;
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        this.buildId,
+        this.commandArgs,
+        this.exitCode,
+        this.ruleKeyLoggerLogFile,
+        value,
+        this.ruleKeyDiagKeysFile,
+        this.ruleKeyDiagGraphFile,
+        this.traceFile,
+        this.size,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractBuildLogEntry#getRuleKeyDiagKeysFile() ruleKeyDiagKeysFile} attribute.
+   * @param value The value for ruleKeyDiagKeysFile
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildLogEntry withRuleKeyDiagKeysFile(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "ruleKeyDiagKeysFile");
+    if (this.ruleKeyDiagKeysFile == newValue) return this;
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        this.buildId,
+        this.commandArgs,
+        this.exitCode,
+        this.ruleKeyLoggerLogFile,
+        this.machineReadableLogFile,
+        newValue,
+        this.ruleKeyDiagGraphFile,
+        this.traceFile,
+        this.size,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractBuildLogEntry#getRuleKeyDiagKeysFile() ruleKeyDiagKeysFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for ruleKeyDiagKeysFile
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildLogEntry withRuleKeyDiagKeysFile(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.ruleKeyDiagKeysFile == value) return this;
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        this.buildId,
+        this.commandArgs,
+        this.exitCode,
+        this.ruleKeyLoggerLogFile,
+        this.machineReadableLogFile,
+        value,
+        this.ruleKeyDiagGraphFile,
+        this.traceFile,
+        this.size,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractBuildLogEntry#getRuleKeyDiagGraphFile() ruleKeyDiagGraphFile} attribute.
+   * @param value The value for ruleKeyDiagGraphFile
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildLogEntry withRuleKeyDiagGraphFile(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "ruleKeyDiagGraphFile");
+    if (this.ruleKeyDiagGraphFile == newValue) return this;
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        this.buildId,
+        this.commandArgs,
+        this.exitCode,
+        this.ruleKeyLoggerLogFile,
+        this.machineReadableLogFile,
+        this.ruleKeyDiagKeysFile,
+        newValue,
+        this.traceFile,
+        this.size,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractBuildLogEntry#getRuleKeyDiagGraphFile() ruleKeyDiagGraphFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for ruleKeyDiagGraphFile
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildLogEntry withRuleKeyDiagGraphFile(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.ruleKeyDiagGraphFile == value) return this;
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        this.buildId,
+        this.commandArgs,
+        this.exitCode,
+        this.ruleKeyLoggerLogFile,
+        this.machineReadableLogFile,
+        this.ruleKeyDiagKeysFile,
+        value,
+        this.traceFile,
+        this.size,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractBuildLogEntry#getTraceFile() traceFile} attribute.
+   * @param value The value for traceFile
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildLogEntry withTraceFile(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "traceFile");
+    if (this.traceFile == newValue) return this;
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        this.buildId,
+        this.commandArgs,
+        this.exitCode,
+        this.ruleKeyLoggerLogFile,
+        this.machineReadableLogFile,
+        this.ruleKeyDiagKeysFile,
+        this.ruleKeyDiagGraphFile,
+        newValue,
+        this.size,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractBuildLogEntry#getTraceFile() traceFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for traceFile
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildLogEntry withTraceFile(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.traceFile == value) return this;
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        this.buildId,
+        this.commandArgs,
+        this.exitCode,
+        this.ruleKeyLoggerLogFile,
+        this.machineReadableLogFile,
+        this.ruleKeyDiagKeysFile,
+        this.ruleKeyDiagGraphFile,
+        value,
+        this.size,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildLogEntry#getSize() size} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for size
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildLogEntry withSize(long value) {
+    if (this.size == value) return this;
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        this.buildId,
+        this.commandArgs,
+        this.exitCode,
+        this.ruleKeyLoggerLogFile,
+        this.machineReadableLogFile,
+        this.ruleKeyDiagKeysFile,
+        this.ruleKeyDiagGraphFile,
+        this.traceFile,
+        value,
+        this.lastModifiedTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildLogEntry#getLastModifiedTime() lastModifiedTime} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for lastModifiedTime
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildLogEntry withLastModifiedTime(Date value) {
+    if (this.lastModifiedTime == value) return this;
+    Date newValue = Objects.requireNonNull(value, "lastModifiedTime");
+    return validate(new BuildLogEntry(
+        this.relativePath,
+        this.buildId,
+        this.commandArgs,
+        this.exitCode,
+        this.ruleKeyLoggerLogFile,
+        this.machineReadableLogFile,
+        this.ruleKeyDiagKeysFile,
+        this.ruleKeyDiagGraphFile,
+        this.traceFile,
+        this.size,
+        newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildLogEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildLogEntry
+        && equalTo((BuildLogEntry) another);
+  }
+
+  private boolean equalTo(BuildLogEntry another) {
+    return relativePath.equals(another.relativePath)
+        && Objects.equals(buildId, another.buildId)
+        && Objects.equals(commandArgs, another.commandArgs)
+        && Objects.equals(exitCode, another.exitCode)
+        && Objects.equals(ruleKeyLoggerLogFile, another.ruleKeyLoggerLogFile)
+        && Objects.equals(machineReadableLogFile, another.machineReadableLogFile)
+        && Objects.equals(ruleKeyDiagKeysFile, another.ruleKeyDiagKeysFile)
+        && Objects.equals(ruleKeyDiagGraphFile, another.ruleKeyDiagGraphFile)
+        && Objects.equals(traceFile, another.traceFile)
+        && size == another.size
+        && lastModifiedTime.equals(another.lastModifiedTime);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code relativePath}, {@code buildId}, {@code commandArgs}, {@code exitCode}, {@code ruleKeyLoggerLogFile}, {@code machineReadableLogFile}, {@code ruleKeyDiagKeysFile}, {@code ruleKeyDiagGraphFile}, {@code traceFile}, {@code size}, {@code lastModifiedTime}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + relativePath.hashCode();
+    h += (h << 5) + Objects.hashCode(buildId);
+    h += (h << 5) + Objects.hashCode(commandArgs);
+    h += (h << 5) + Objects.hashCode(exitCode);
+    h += (h << 5) + Objects.hashCode(ruleKeyLoggerLogFile);
+    h += (h << 5) + Objects.hashCode(machineReadableLogFile);
+    h += (h << 5) + Objects.hashCode(ruleKeyDiagKeysFile);
+    h += (h << 5) + Objects.hashCode(ruleKeyDiagGraphFile);
+    h += (h << 5) + Objects.hashCode(traceFile);
+    h += (h << 5) + Longs.hashCode(size);
+    h += (h << 5) + lastModifiedTime.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildLogEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildLogEntry")
+        .omitNullValues()
+        .add("relativePath", relativePath)
+        .add("buildId", buildId)
+        .add("commandArgs", commandArgs)
+        .add("exitCode", exitCode)
+        .add("ruleKeyLoggerLogFile", ruleKeyLoggerLogFile)
+        .add("machineReadableLogFile", machineReadableLogFile)
+        .add("ruleKeyDiagKeysFile", ruleKeyDiagKeysFile)
+        .add("ruleKeyDiagGraphFile", ruleKeyDiagGraphFile)
+        .add("traceFile", traceFile)
+        .add("size", size)
+        .add("lastModifiedTime", lastModifiedTime)
+        .toString();
+  }
+
+
+  private static BuildLogEntry validate(BuildLogEntry instance) {
+    instance.pathIsRelative();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBuildLogEntry} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildLogEntry instance
+   */
+  static BuildLogEntry copyOf(AbstractBuildLogEntry instance) {
+    if (instance instanceof BuildLogEntry) {
+      return (BuildLogEntry) instance;
+    }
+    return BuildLogEntry.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link BuildLogEntry BuildLogEntry}.
+   * @return A new BuildLogEntry builder
+   */
+  public static BuildLogEntry.Builder builder() {
+    return new BuildLogEntry.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildLogEntry BuildLogEntry}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_RELATIVE_PATH = 0x1L;
+    private static final long INIT_BIT_SIZE = 0x2L;
+    private static final long INIT_BIT_LAST_MODIFIED_TIME = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable Path relativePath;
+    private @Nullable BuildId buildId;
+    private @Nullable String commandArgs;
+    private @Nullable Integer exitCode;
+    private @Nullable Path ruleKeyLoggerLogFile;
+    private @Nullable Path machineReadableLogFile;
+    private @Nullable Path ruleKeyDiagKeysFile;
+    private @Nullable Path ruleKeyDiagGraphFile;
+    private @Nullable Path traceFile;
+    private long size;
+    private @Nullable Date lastModifiedTime;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildLogEntry} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildLogEntry instance) {
+      return from((AbstractBuildLogEntry) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildLogEntry} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractBuildLogEntry instance) {
+      Objects.requireNonNull(instance, "instance");
+      setRelativePath(instance.getRelativePath());
+      Optional<BuildId> buildIdOptional = instance.getBuildId();
+      if (buildIdOptional.isPresent()) {
+        setBuildId(buildIdOptional);
+      }
+      Optional<String> commandArgsOptional = instance.getCommandArgs();
+      if (commandArgsOptional.isPresent()) {
+        setCommandArgs(commandArgsOptional);
+      }
+      OptionalInt exitCodeOptional = instance.getExitCode();
+      if (exitCodeOptional.isPresent()) {
+        setExitCode(exitCodeOptional);
+      }
+      Optional<Path> ruleKeyLoggerLogFileOptional = instance.getRuleKeyLoggerLogFile();
+      if (ruleKeyLoggerLogFileOptional.isPresent()) {
+        setRuleKeyLoggerLogFile(ruleKeyLoggerLogFileOptional);
+      }
+      Optional<Path> machineReadableLogFileOptional = instance.getMachineReadableLogFile();
+      if (machineReadableLogFileOptional.isPresent()) {
+        setMachineReadableLogFile(machineReadableLogFileOptional);
+      }
+      Optional<Path> ruleKeyDiagKeysFileOptional = instance.getRuleKeyDiagKeysFile();
+      if (ruleKeyDiagKeysFileOptional.isPresent()) {
+        setRuleKeyDiagKeysFile(ruleKeyDiagKeysFileOptional);
+      }
+      Optional<Path> ruleKeyDiagGraphFileOptional = instance.getRuleKeyDiagGraphFile();
+      if (ruleKeyDiagGraphFileOptional.isPresent()) {
+        setRuleKeyDiagGraphFile(ruleKeyDiagGraphFileOptional);
+      }
+      Optional<Path> traceFileOptional = instance.getTraceFile();
+      if (traceFileOptional.isPresent()) {
+        setTraceFile(traceFileOptional);
+      }
+      setSize(instance.getSize());
+      setLastModifiedTime(instance.getLastModifiedTime());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractBuildLogEntry#getRelativePath() relativePath} attribute.
+     * @param relativePath The value for relativePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRelativePath(Path relativePath) {
+      this.relativePath = Objects.requireNonNull(relativePath, "relativePath");
+      initBits &= ~INIT_BIT_RELATIVE_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getBuildId() buildId} to buildId.
+     * @param buildId The value for buildId
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildId(BuildId buildId) {
+      this.buildId = Objects.requireNonNull(buildId, "buildId");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getBuildId() buildId} to buildId.
+     * @param buildId The value for buildId
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildId(Optional<? extends BuildId> buildId) {
+      this.buildId = buildId.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getCommandArgs() commandArgs} to commandArgs.
+     * @param commandArgs The value for commandArgs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCommandArgs(String commandArgs) {
+      this.commandArgs = Objects.requireNonNull(commandArgs, "commandArgs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getCommandArgs() commandArgs} to commandArgs.
+     * @param commandArgs The value for commandArgs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCommandArgs(Optional<String> commandArgs) {
+      this.commandArgs = commandArgs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getExitCode() exitCode} to exitCode.
+     * @param exitCode The value for exitCode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExitCode(int exitCode) {
+      this.exitCode = exitCode;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getExitCode() exitCode} to exitCode.
+     * @param exitCode The value for exitCode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExitCode(OptionalInt exitCode) {
+      this.exitCode = exitCode.isPresent() ? exitCode.getAsInt() : null;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getRuleKeyLoggerLogFile() ruleKeyLoggerLogFile} to ruleKeyLoggerLogFile.
+     * @param ruleKeyLoggerLogFile The value for ruleKeyLoggerLogFile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRuleKeyLoggerLogFile(Path ruleKeyLoggerLogFile) {
+      this.ruleKeyLoggerLogFile = Objects.requireNonNull(ruleKeyLoggerLogFile, "ruleKeyLoggerLogFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getRuleKeyLoggerLogFile() ruleKeyLoggerLogFile} to ruleKeyLoggerLogFile.
+     * @param ruleKeyLoggerLogFile The value for ruleKeyLoggerLogFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRuleKeyLoggerLogFile(Optional<? extends Path> ruleKeyLoggerLogFile) {
+      this.ruleKeyLoggerLogFile = ruleKeyLoggerLogFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getMachineReadableLogFile() machineReadableLogFile} to machineReadableLogFile.
+     * @param machineReadableLogFile The value for machineReadableLogFile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMachineReadableLogFile(Path machineReadableLogFile) {
+      this.machineReadableLogFile = Objects.requireNonNull(machineReadableLogFile, "machineReadableLogFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getMachineReadableLogFile() machineReadableLogFile} to machineReadableLogFile.
+     * @param machineReadableLogFile The value for machineReadableLogFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMachineReadableLogFile(Optional<? extends Path> machineReadableLogFile) {
+      this.machineReadableLogFile = machineReadableLogFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getRuleKeyDiagKeysFile() ruleKeyDiagKeysFile} to ruleKeyDiagKeysFile.
+     * @param ruleKeyDiagKeysFile The value for ruleKeyDiagKeysFile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRuleKeyDiagKeysFile(Path ruleKeyDiagKeysFile) {
+      this.ruleKeyDiagKeysFile = Objects.requireNonNull(ruleKeyDiagKeysFile, "ruleKeyDiagKeysFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getRuleKeyDiagKeysFile() ruleKeyDiagKeysFile} to ruleKeyDiagKeysFile.
+     * @param ruleKeyDiagKeysFile The value for ruleKeyDiagKeysFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRuleKeyDiagKeysFile(Optional<? extends Path> ruleKeyDiagKeysFile) {
+      this.ruleKeyDiagKeysFile = ruleKeyDiagKeysFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getRuleKeyDiagGraphFile() ruleKeyDiagGraphFile} to ruleKeyDiagGraphFile.
+     * @param ruleKeyDiagGraphFile The value for ruleKeyDiagGraphFile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRuleKeyDiagGraphFile(Path ruleKeyDiagGraphFile) {
+      this.ruleKeyDiagGraphFile = Objects.requireNonNull(ruleKeyDiagGraphFile, "ruleKeyDiagGraphFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getRuleKeyDiagGraphFile() ruleKeyDiagGraphFile} to ruleKeyDiagGraphFile.
+     * @param ruleKeyDiagGraphFile The value for ruleKeyDiagGraphFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRuleKeyDiagGraphFile(Optional<? extends Path> ruleKeyDiagGraphFile) {
+      this.ruleKeyDiagGraphFile = ruleKeyDiagGraphFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getTraceFile() traceFile} to traceFile.
+     * @param traceFile The value for traceFile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTraceFile(Path traceFile) {
+      this.traceFile = Objects.requireNonNull(traceFile, "traceFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getTraceFile() traceFile} to traceFile.
+     * @param traceFile The value for traceFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTraceFile(Optional<? extends Path> traceFile) {
+      this.traceFile = traceFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractBuildLogEntry#getSize() size} attribute.
+     * @param size The value for size 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSize(long size) {
+      this.size = size;
+      initBits &= ~INIT_BIT_SIZE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractBuildLogEntry#getLastModifiedTime() lastModifiedTime} attribute.
+     * @param lastModifiedTime The value for lastModifiedTime 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLastModifiedTime(Date lastModifiedTime) {
+      this.lastModifiedTime = Objects.requireNonNull(lastModifiedTime, "lastModifiedTime");
+      initBits &= ~INIT_BIT_LAST_MODIFIED_TIME;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link BuildLogEntry BuildLogEntry}.
+     * @return An immutable instance of BuildLogEntry
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildLogEntry build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return BuildLogEntry.validate(new BuildLogEntry(
+          relativePath,
+          buildId,
+          commandArgs,
+          exitCode,
+          ruleKeyLoggerLogFile,
+          machineReadableLogFile,
+          ruleKeyDiagKeysFile,
+          ruleKeyDiagGraphFile,
+          traceFile,
+          size,
+          lastModifiedTime));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_RELATIVE_PATH) != 0) attributes.add("relativePath");
+      if ((initBits & INIT_BIT_SIZE) != 0) attributes.add("size");
+      if ((initBits & INIT_BIT_LAST_MODIFIED_TIME) != 0) attributes.add("lastModifiedTime");
+      return "Cannot build BuildLogEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
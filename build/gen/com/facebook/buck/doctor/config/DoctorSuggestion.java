@@ -0,0 +1,372 @@
+package com.facebook.buck.doctor.config;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractDoctorSuggestion}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DoctorSuggestion.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code DoctorSuggestion.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDoctorSuggestion"})
+@Immutable
+public final class DoctorSuggestion extends AbstractDoctorSuggestion {
+  private final AbstractDoctorSuggestion.StepStatus status;
+  private final @Nullable String area;
+  private final String suggestion;
+
+  private DoctorSuggestion(
+      AbstractDoctorSuggestion.StepStatus status,
+      Optional<String> area,
+      String suggestion) {
+    this.status = Objects.requireNonNull(status, "status");
+    this.area = area.orElse(null);
+    this.suggestion = Objects.requireNonNull(suggestion, "suggestion");
+  }
+
+  private DoctorSuggestion(
+      DoctorSuggestion original,
+      AbstractDoctorSuggestion.StepStatus status,
+      @Nullable String area,
+      String suggestion) {
+    this.status = status;
+    this.area = area;
+    this.suggestion = suggestion;
+  }
+
+  /**
+   * @return The value of the {@code status} attribute
+   */
+  @JsonProperty
+  @Override
+  public AbstractDoctorSuggestion.StepStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * @return The value of the {@code area} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> getArea() {
+    return Optional.ofNullable(area);
+  }
+
+  /**
+   * @return The value of the {@code suggestion} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getSuggestion() {
+    return suggestion;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDoctorSuggestion#getStatus() status} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for status
+   * @return A modified copy of the {@code this} object
+   */
+  public final DoctorSuggestion withStatus(AbstractDoctorSuggestion.StepStatus value) {
+    if (this.status == value) return this;
+    AbstractDoctorSuggestion.StepStatus newValue = Objects.requireNonNull(value, "status");
+    return new DoctorSuggestion(this, newValue, this.area, this.suggestion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDoctorSuggestion#getArea() area} attribute.
+   * @param value The value for area
+   * @return A modified copy of {@code this} object
+   */
+  public final DoctorSuggestion withArea(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "area");
+    if (Objects.equals(this.area, newValue)) return this;
+    return new DoctorSuggestion(this, this.status, newValue, this.suggestion);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDoctorSuggestion#getArea() area} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for area
+   * @return A modified copy of {@code this} object
+   */
+  public final DoctorSuggestion withArea(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.area, value)) return this;
+    return new DoctorSuggestion(this, this.status, value, this.suggestion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDoctorSuggestion#getSuggestion() suggestion} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for suggestion
+   * @return A modified copy of the {@code this} object
+   */
+  public final DoctorSuggestion withSuggestion(String value) {
+    if (this.suggestion.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "suggestion");
+    return new DoctorSuggestion(this, this.status, this.area, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DoctorSuggestion} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DoctorSuggestion
+        && equalTo((DoctorSuggestion) another);
+  }
+
+  private boolean equalTo(DoctorSuggestion another) {
+    return status.equals(another.status)
+        && Objects.equals(area, another.area)
+        && suggestion.equals(another.suggestion);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code status}, {@code area}, {@code suggestion}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + status.hashCode();
+    h += (h << 5) + Objects.hashCode(area);
+    h += (h << 5) + suggestion.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DoctorSuggestion} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DoctorSuggestion")
+        .omitNullValues()
+        .add("status", status)
+        .add("area", area)
+        .add("suggestion", suggestion)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractDoctorSuggestion {
+    @Nullable AbstractDoctorSuggestion.StepStatus status;
+    @Nullable Optional<String> area = Optional.empty();
+    @Nullable String suggestion;
+    @JsonProperty
+    public void setStatus(AbstractDoctorSuggestion.StepStatus status) {
+      this.status = status;
+    }
+    @JsonProperty
+    public void setArea(Optional<String> area) {
+      this.area = area;
+    }
+    @JsonProperty
+    public void setSuggestion(String suggestion) {
+      this.suggestion = suggestion;
+    }
+    @Override
+    public AbstractDoctorSuggestion.StepStatus getStatus() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getArea() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getSuggestion() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static DoctorSuggestion fromJson(Json json) {
+    DoctorSuggestion.Builder builder = DoctorSuggestion.builder();
+    if (json.status != null) {
+      builder.setStatus(json.status);
+    }
+    if (json.area != null) {
+      builder.setArea(json.area);
+    }
+    if (json.suggestion != null) {
+      builder.setSuggestion(json.suggestion);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Construct a new immutable {@code DoctorSuggestion} instance.
+   * @param status The value for the {@code status} attribute
+   * @param area The value for the {@code area} attribute
+   * @param suggestion The value for the {@code suggestion} attribute
+   * @return An immutable DoctorSuggestion instance
+   */
+  public static DoctorSuggestion of(AbstractDoctorSuggestion.StepStatus status, Optional<String> area, String suggestion) {
+    return new DoctorSuggestion(status, area, suggestion);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractDoctorSuggestion} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DoctorSuggestion instance
+   */
+  static DoctorSuggestion copyOf(AbstractDoctorSuggestion instance) {
+    if (instance instanceof DoctorSuggestion) {
+      return (DoctorSuggestion) instance;
+    }
+    return DoctorSuggestion.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DoctorSuggestion DoctorSuggestion}.
+   * @return A new DoctorSuggestion builder
+   */
+  public static DoctorSuggestion.Builder builder() {
+    return new DoctorSuggestion.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DoctorSuggestion DoctorSuggestion}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_STATUS = 0x1L;
+    private static final long INIT_BIT_SUGGESTION = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable AbstractDoctorSuggestion.StepStatus status;
+    private @Nullable String area;
+    private @Nullable String suggestion;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DoctorSuggestion} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DoctorSuggestion instance) {
+      return from((AbstractDoctorSuggestion) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDoctorSuggestion} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractDoctorSuggestion instance) {
+      Objects.requireNonNull(instance, "instance");
+      setStatus(instance.getStatus());
+      Optional<String> areaOptional = instance.getArea();
+      if (areaOptional.isPresent()) {
+        setArea(areaOptional);
+      }
+      setSuggestion(instance.getSuggestion());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDoctorSuggestion#getStatus() status} attribute.
+     * @param status The value for status 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setStatus(AbstractDoctorSuggestion.StepStatus status) {
+      this.status = Objects.requireNonNull(status, "status");
+      initBits &= ~INIT_BIT_STATUS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorSuggestion#getArea() area} to area.
+     * @param area The value for area
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setArea(String area) {
+      this.area = Objects.requireNonNull(area, "area");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorSuggestion#getArea() area} to area.
+     * @param area The value for area
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setArea(Optional<String> area) {
+      this.area = area.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDoctorSuggestion#getSuggestion() suggestion} attribute.
+     * @param suggestion The value for suggestion 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setSuggestion(String suggestion) {
+      this.suggestion = Objects.requireNonNull(suggestion, "suggestion");
+      initBits &= ~INIT_BIT_SUGGESTION;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DoctorSuggestion DoctorSuggestion}.
+     * @return An immutable instance of DoctorSuggestion
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DoctorSuggestion build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DoctorSuggestion(null, status, area, suggestion);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_STATUS) != 0) attributes.add("status");
+      if ((initBits & INIT_BIT_SUGGESTION) != 0) attributes.add("suggestion");
+      return "Cannot build DoctorSuggestion, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,405 @@
+package com.facebook.buck.doctor.config;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractSourceControlInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code SourceControlInfo.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSourceControlInfo"})
+@Immutable
+public final class SourceControlInfo implements AbstractSourceControlInfo {
+  private final String currentRevisionId;
+  private final ImmutableSet<String> basedOffWhichTracked;
+  private final @Nullable String revisionIdOffTracked;
+  private final @Nullable Long revisionTimestampOffTracked;
+  private final @Nullable String diff;
+  private final ImmutableSet<String> dirtyFiles;
+
+  private SourceControlInfo(
+      String currentRevisionId,
+      Iterable<String> basedOffWhichTracked,
+      Optional<String> revisionIdOffTracked,
+      Optional<Long> revisionTimestampOffTracked,
+      Optional<String> diff,
+      Iterable<String> dirtyFiles) {
+    this.currentRevisionId = Objects.requireNonNull(currentRevisionId, "currentRevisionId");
+    this.basedOffWhichTracked = ImmutableSet.copyOf(basedOffWhichTracked);
+    this.revisionIdOffTracked = revisionIdOffTracked.orElse(null);
+    this.revisionTimestampOffTracked = revisionTimestampOffTracked.orElse(null);
+    this.diff = diff.orElse(null);
+    this.dirtyFiles = ImmutableSet.copyOf(dirtyFiles);
+  }
+
+  private SourceControlInfo(
+      SourceControlInfo original,
+      String currentRevisionId,
+      ImmutableSet<String> basedOffWhichTracked,
+      @Nullable String revisionIdOffTracked,
+      @Nullable Long revisionTimestampOffTracked,
+      @Nullable String diff,
+      ImmutableSet<String> dirtyFiles) {
+    this.currentRevisionId = currentRevisionId;
+    this.basedOffWhichTracked = basedOffWhichTracked;
+    this.revisionIdOffTracked = revisionIdOffTracked;
+    this.revisionTimestampOffTracked = revisionTimestampOffTracked;
+    this.diff = diff;
+    this.dirtyFiles = dirtyFiles;
+  }
+
+  /**
+   * @return The value of the {@code currentRevisionId} attribute
+   */
+  @Override
+  public String getCurrentRevisionId() {
+    return currentRevisionId;
+  }
+
+  /**
+   * @return The value of the {@code basedOffWhichTracked} attribute
+   */
+  @Override
+  public ImmutableSet<String> getBasedOffWhichTracked() {
+    return basedOffWhichTracked;
+  }
+
+  /**
+   * @return The value of the {@code revisionIdOffTracked} attribute
+   */
+  @Override
+  public Optional<String> getRevisionIdOffTracked() {
+    return Optional.ofNullable(revisionIdOffTracked);
+  }
+
+  /**
+   * @return The value of the {@code revisionTimestampOffTracked} attribute
+   */
+  @Override
+  public Optional<Long> getRevisionTimestampOffTracked() {
+    return Optional.ofNullable(revisionTimestampOffTracked);
+  }
+
+  /**
+   * @return The value of the {@code diff} attribute
+   */
+  @Override
+  public Optional<String> getDiff() {
+    return Optional.ofNullable(diff);
+  }
+
+  /**
+   * @return The value of the {@code dirtyFiles} attribute
+   */
+  @Override
+  public ImmutableSet<String> getDirtyFiles() {
+    return dirtyFiles;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSourceControlInfo#getCurrentRevisionId() currentRevisionId} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for currentRevisionId
+   * @return A modified copy of the {@code this} object
+   */
+  public final SourceControlInfo withCurrentRevisionId(String value) {
+    if (this.currentRevisionId.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "currentRevisionId");
+    return new SourceControlInfo(
+        this,
+        newValue,
+        this.basedOffWhichTracked,
+        this.revisionIdOffTracked,
+        this.revisionTimestampOffTracked,
+        this.diff,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractSourceControlInfo#getBasedOffWhichTracked() basedOffWhichTracked}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withBasedOffWhichTracked(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new SourceControlInfo(
+        this,
+        this.currentRevisionId,
+        newValue,
+        this.revisionIdOffTracked,
+        this.revisionTimestampOffTracked,
+        this.diff,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractSourceControlInfo#getBasedOffWhichTracked() basedOffWhichTracked}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of basedOffWhichTracked elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withBasedOffWhichTracked(Iterable<String> elements) {
+    if (this.basedOffWhichTracked == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new SourceControlInfo(
+        this,
+        this.currentRevisionId,
+        newValue,
+        this.revisionIdOffTracked,
+        this.revisionTimestampOffTracked,
+        this.diff,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractSourceControlInfo#getRevisionIdOffTracked() revisionIdOffTracked} attribute.
+   * @param value The value for revisionIdOffTracked
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withRevisionIdOffTracked(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "revisionIdOffTracked");
+    if (Objects.equals(this.revisionIdOffTracked, newValue)) return this;
+    return new SourceControlInfo(
+        this,
+        this.currentRevisionId,
+        this.basedOffWhichTracked,
+        newValue,
+        this.revisionTimestampOffTracked,
+        this.diff,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractSourceControlInfo#getRevisionIdOffTracked() revisionIdOffTracked} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for revisionIdOffTracked
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withRevisionIdOffTracked(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.revisionIdOffTracked, value)) return this;
+    return new SourceControlInfo(
+        this,
+        this.currentRevisionId,
+        this.basedOffWhichTracked,
+        value,
+        this.revisionTimestampOffTracked,
+        this.diff,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractSourceControlInfo#getRevisionTimestampOffTracked() revisionTimestampOffTracked} attribute.
+   * @param value The value for revisionTimestampOffTracked
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withRevisionTimestampOffTracked(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.revisionTimestampOffTracked, newValue)) return this;
+    return new SourceControlInfo(
+        this,
+        this.currentRevisionId,
+        this.basedOffWhichTracked,
+        this.revisionIdOffTracked,
+        newValue,
+        this.diff,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractSourceControlInfo#getRevisionTimestampOffTracked() revisionTimestampOffTracked} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for revisionTimestampOffTracked
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withRevisionTimestampOffTracked(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.revisionTimestampOffTracked, value)) return this;
+    return new SourceControlInfo(
+        this,
+        this.currentRevisionId,
+        this.basedOffWhichTracked,
+        this.revisionIdOffTracked,
+        value,
+        this.diff,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractSourceControlInfo#getDiff() diff} attribute.
+   * @param value The value for diff
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withDiff(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "diff");
+    if (Objects.equals(this.diff, newValue)) return this;
+    return new SourceControlInfo(
+        this,
+        this.currentRevisionId,
+        this.basedOffWhichTracked,
+        this.revisionIdOffTracked,
+        this.revisionTimestampOffTracked,
+        newValue,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractSourceControlInfo#getDiff() diff} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for diff
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withDiff(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.diff, value)) return this;
+    return new SourceControlInfo(
+        this,
+        this.currentRevisionId,
+        this.basedOffWhichTracked,
+        this.revisionIdOffTracked,
+        this.revisionTimestampOffTracked,
+        value,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractSourceControlInfo#getDirtyFiles() dirtyFiles}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withDirtyFiles(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new SourceControlInfo(
+        this,
+        this.currentRevisionId,
+        this.basedOffWhichTracked,
+        this.revisionIdOffTracked,
+        this.revisionTimestampOffTracked,
+        this.diff,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractSourceControlInfo#getDirtyFiles() dirtyFiles}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of dirtyFiles elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withDirtyFiles(Iterable<String> elements) {
+    if (this.dirtyFiles == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new SourceControlInfo(
+        this,
+        this.currentRevisionId,
+        this.basedOffWhichTracked,
+        this.revisionIdOffTracked,
+        this.revisionTimestampOffTracked,
+        this.diff,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SourceControlInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SourceControlInfo
+        && equalTo((SourceControlInfo) another);
+  }
+
+  private boolean equalTo(SourceControlInfo another) {
+    return currentRevisionId.equals(another.currentRevisionId)
+        && basedOffWhichTracked.equals(another.basedOffWhichTracked)
+        && Objects.equals(revisionIdOffTracked, another.revisionIdOffTracked)
+        && Objects.equals(revisionTimestampOffTracked, another.revisionTimestampOffTracked)
+        && Objects.equals(diff, another.diff)
+        && dirtyFiles.equals(another.dirtyFiles);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code currentRevisionId}, {@code basedOffWhichTracked}, {@code revisionIdOffTracked}, {@code revisionTimestampOffTracked}, {@code diff}, {@code dirtyFiles}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + currentRevisionId.hashCode();
+    h += (h << 5) + basedOffWhichTracked.hashCode();
+    h += (h << 5) + Objects.hashCode(revisionIdOffTracked);
+    h += (h << 5) + Objects.hashCode(revisionTimestampOffTracked);
+    h += (h << 5) + Objects.hashCode(diff);
+    h += (h << 5) + dirtyFiles.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SourceControlInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourceControlInfo")
+        .omitNullValues()
+        .add("currentRevisionId", currentRevisionId)
+        .add("basedOffWhichTracked", basedOffWhichTracked)
+        .add("revisionIdOffTracked", revisionIdOffTracked)
+        .add("revisionTimestampOffTracked", revisionTimestampOffTracked)
+        .add("diff", diff)
+        .add("dirtyFiles", dirtyFiles)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SourceControlInfo} instance.
+   * @param currentRevisionId The value for the {@code currentRevisionId} attribute
+   * @param basedOffWhichTracked The value for the {@code basedOffWhichTracked} attribute
+   * @param revisionIdOffTracked The value for the {@code revisionIdOffTracked} attribute
+   * @param revisionTimestampOffTracked The value for the {@code revisionTimestampOffTracked} attribute
+   * @param diff The value for the {@code diff} attribute
+   * @param dirtyFiles The value for the {@code dirtyFiles} attribute
+   * @return An immutable SourceControlInfo instance
+   */
+  public static SourceControlInfo of(String currentRevisionId, ImmutableSet<String> basedOffWhichTracked, Optional<String> revisionIdOffTracked, Optional<Long> revisionTimestampOffTracked, Optional<String> diff, ImmutableSet<String> dirtyFiles) {
+    return of(currentRevisionId, (Iterable<String>) basedOffWhichTracked, revisionIdOffTracked, revisionTimestampOffTracked, diff, (Iterable<String>) dirtyFiles);
+  }
+
+  /**
+   * Construct a new immutable {@code SourceControlInfo} instance.
+   * @param currentRevisionId The value for the {@code currentRevisionId} attribute
+   * @param basedOffWhichTracked The value for the {@code basedOffWhichTracked} attribute
+   * @param revisionIdOffTracked The value for the {@code revisionIdOffTracked} attribute
+   * @param revisionTimestampOffTracked The value for the {@code revisionTimestampOffTracked} attribute
+   * @param diff The value for the {@code diff} attribute
+   * @param dirtyFiles The value for the {@code dirtyFiles} attribute
+   * @return An immutable SourceControlInfo instance
+   */
+  public static SourceControlInfo of(String currentRevisionId, Iterable<String> basedOffWhichTracked, Optional<String> revisionIdOffTracked, Optional<Long> revisionTimestampOffTracked, Optional<String> diff, Iterable<String> dirtyFiles) {
+    return new SourceControlInfo(currentRevisionId, basedOffWhichTracked, revisionIdOffTracked, revisionTimestampOffTracked, diff, dirtyFiles);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractSourceControlInfo} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable SourceControlInfo instance
+   */
+  static SourceControlInfo copyOf(AbstractSourceControlInfo instance) {
+    if (instance instanceof SourceControlInfo) {
+      return (SourceControlInfo) instance;
+    }
+    return SourceControlInfo.of(instance.getCurrentRevisionId(), instance.getBasedOffWhichTracked(), instance.getRevisionIdOffTracked(), instance.getRevisionTimestampOffTracked(), instance.getDiff(), instance.getDirtyFiles());
+  }
+}
@@ -0,0 +1,277 @@
+package com.facebook.buck.doctor.config;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractUserLocalConfiguration}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code UserLocalConfiguration.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code UserLocalConfiguration.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractUserLocalConfiguration"})
+@Immutable
+public final class UserLocalConfiguration
+    extends AbstractUserLocalConfiguration {
+  private final boolean noBuckCheckPresent;
+  private final ImmutableMap<Path, String> localConfigsContents;
+
+  private UserLocalConfiguration(
+      boolean noBuckCheckPresent,
+      Map<? extends Path, ? extends String> localConfigsContents) {
+    this.noBuckCheckPresent = noBuckCheckPresent;
+    this.localConfigsContents = ImmutableMap.copyOf(localConfigsContents);
+  }
+
+  private UserLocalConfiguration(
+      UserLocalConfiguration original,
+      boolean noBuckCheckPresent,
+      ImmutableMap<Path, String> localConfigsContents) {
+    this.noBuckCheckPresent = noBuckCheckPresent;
+    this.localConfigsContents = localConfigsContents;
+  }
+
+  /**
+   * @return The value of the {@code noBuckCheckPresent} attribute
+   */
+  @Override
+  public boolean isNoBuckCheckPresent() {
+    return noBuckCheckPresent;
+  }
+
+  /**
+   * @return The value of the {@code localConfigsContents} attribute
+   */
+  @Override
+  public ImmutableMap<Path, String> getLocalConfigsContents() {
+    return localConfigsContents;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUserLocalConfiguration#isNoBuckCheckPresent() noBuckCheckPresent} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for noBuckCheckPresent
+   * @return A modified copy of the {@code this} object
+   */
+  public final UserLocalConfiguration withNoBuckCheckPresent(boolean value) {
+    if (this.noBuckCheckPresent == value) return this;
+    return new UserLocalConfiguration(this, value, this.localConfigsContents);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractUserLocalConfiguration#getLocalConfigsContents() localConfigsContents} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the localConfigsContents map
+   * @return A modified copy of {@code this} object
+   */
+  public final UserLocalConfiguration withLocalConfigsContents(Map<? extends Path, ? extends String> entries) {
+    if (this.localConfigsContents == entries) return this;
+    ImmutableMap<Path, String> newValue = ImmutableMap.copyOf(entries);
+    return new UserLocalConfiguration(this, this.noBuckCheckPresent, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code UserLocalConfiguration} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof UserLocalConfiguration
+        && equalTo((UserLocalConfiguration) another);
+  }
+
+  private boolean equalTo(UserLocalConfiguration another) {
+    return noBuckCheckPresent == another.noBuckCheckPresent
+        && localConfigsContents.equals(another.localConfigsContents);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code noBuckCheckPresent}, {@code localConfigsContents}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Booleans.hashCode(noBuckCheckPresent);
+    h += (h << 5) + localConfigsContents.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code UserLocalConfiguration} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("UserLocalConfiguration")
+        .omitNullValues()
+        .add("noBuckCheckPresent", noBuckCheckPresent)
+        .add("localConfigsContents", localConfigsContents)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code UserLocalConfiguration} instance.
+   * @param noBuckCheckPresent The value for the {@code noBuckCheckPresent} attribute
+   * @param localConfigsContents The value for the {@code localConfigsContents} attribute
+   * @return An immutable UserLocalConfiguration instance
+   */
+  public static UserLocalConfiguration of(boolean noBuckCheckPresent, Map<? extends Path, ? extends String> localConfigsContents) {
+    return new UserLocalConfiguration(noBuckCheckPresent, localConfigsContents);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractUserLocalConfiguration} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable UserLocalConfiguration instance
+   */
+  static UserLocalConfiguration copyOf(AbstractUserLocalConfiguration instance) {
+    if (instance instanceof UserLocalConfiguration) {
+      return (UserLocalConfiguration) instance;
+    }
+    return UserLocalConfiguration.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link UserLocalConfiguration UserLocalConfiguration}.
+   * @return A new UserLocalConfiguration builder
+   */
+  public static UserLocalConfiguration.Builder builder() {
+    return new UserLocalConfiguration.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link UserLocalConfiguration UserLocalConfiguration}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NO_BUCK_CHECK_PRESENT = 0x1L;
+    private long initBits = 0x1L;
+
+    private boolean noBuckCheckPresent;
+    private ImmutableMap.Builder<Path, String> localConfigsContents = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code UserLocalConfiguration} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(UserLocalConfiguration instance) {
+      return from((AbstractUserLocalConfiguration) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractUserLocalConfiguration} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractUserLocalConfiguration instance) {
+      Objects.requireNonNull(instance, "instance");
+      setNoBuckCheckPresent(instance.isNoBuckCheckPresent());
+      putAllLocalConfigsContents(instance.getLocalConfigsContents());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractUserLocalConfiguration#isNoBuckCheckPresent() noBuckCheckPresent} attribute.
+     * @param noBuckCheckPresent The value for noBuckCheckPresent 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNoBuckCheckPresent(boolean noBuckCheckPresent) {
+      this.noBuckCheckPresent = noBuckCheckPresent;
+      initBits &= ~INIT_BIT_NO_BUCK_CHECK_PRESENT;
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link AbstractUserLocalConfiguration#getLocalConfigsContents() localConfigsContents} map.
+     * @param key The key in the localConfigsContents map
+     * @param value The associated value in the localConfigsContents map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putLocalConfigsContents(Path key, String value) {
+      this.localConfigsContents.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractUserLocalConfiguration#getLocalConfigsContents() localConfigsContents} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putLocalConfigsContents(Map.Entry<? extends Path, ? extends String> entry) {
+      this.localConfigsContents.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractUserLocalConfiguration#getLocalConfigsContents() localConfigsContents} map. Nulls are not permitted
+     * @param localConfigsContents The entries that will be added to the localConfigsContents map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLocalConfigsContents(Map<? extends Path, ? extends String> localConfigsContents) {
+      this.localConfigsContents = ImmutableMap.builder();
+      return putAllLocalConfigsContents(localConfigsContents);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractUserLocalConfiguration#getLocalConfigsContents() localConfigsContents} map. Nulls are not permitted
+     * @param localConfigsContents The entries that will be added to the localConfigsContents map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllLocalConfigsContents(Map<? extends Path, ? extends String> localConfigsContents) {
+      this.localConfigsContents.putAll(localConfigsContents);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link UserLocalConfiguration UserLocalConfiguration}.
+     * @return An immutable instance of UserLocalConfiguration
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public UserLocalConfiguration build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new UserLocalConfiguration(null, noBuckCheckPresent, localConfigsContents.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NO_BUCK_CHECK_PRESENT) != 0) attributes.add("noBuckCheckPresent");
+      return "Cannot build UserLocalConfiguration, some of required attributes are not set " + attributes;
+    }
+  }
+}
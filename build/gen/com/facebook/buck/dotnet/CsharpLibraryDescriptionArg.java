@@ -0,0 +1,817 @@
+package com.facebook.buck.dotnet;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Either;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasSrcs;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CsharpLibraryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg"})
+@Immutable
+public final class CsharpLibraryDescriptionArg
+    implements CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg {
+  private final FrameworkVersion frameworkVer;
+  private final ImmutableMap<String, SourcePath> resources;
+  private final String dllName;
+  private final ImmutableList<Either<BuildTarget, String>> deps;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<SourcePath> srcs;
+
+  private CsharpLibraryDescriptionArg(CsharpLibraryDescriptionArg.Builder builder) {
+    this.frameworkVer = builder.frameworkVer;
+    this.resources = builder.resources.build();
+    this.deps = builder.deps.build();
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.srcs = builder.srcs.build();
+    this.dllName = builder.dllName != null
+        ? builder.dllName
+        : Objects.requireNonNull(CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg.super.getDllName(), "dllName");
+  }
+
+  private CsharpLibraryDescriptionArg(
+      FrameworkVersion frameworkVer,
+      ImmutableMap<String, SourcePath> resources,
+      String dllName,
+      ImmutableList<Either<BuildTarget, String>> deps,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<SourcePath> srcs) {
+    this.frameworkVer = frameworkVer;
+    this.resources = resources;
+    this.dllName = dllName;
+    this.deps = deps;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.srcs = srcs;
+  }
+
+  /**
+   * @return The value of the {@code frameworkVer} attribute
+   */
+  @Override
+  public FrameworkVersion getFrameworkVer() {
+    return frameworkVer;
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public ImmutableMap<String, SourcePath> getResources() {
+    return resources;
+  }
+
+  /**
+   * @return The value of the {@code dllName} attribute
+   */
+  @Override
+  public String getDllName() {
+    return dllName;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableList<Either<BuildTarget, String>> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getFrameworkVer() frameworkVer} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for frameworkVer
+   * @return A modified copy of the {@code this} object
+   */
+  public final CsharpLibraryDescriptionArg withFrameworkVer(FrameworkVersion value) {
+    if (this.frameworkVer == value) return this;
+    FrameworkVersion newValue = Objects.requireNonNull(value, "frameworkVer");
+    return new CsharpLibraryDescriptionArg(
+        newValue,
+        this.resources,
+        this.dllName,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getResources() resources} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the resources map
+   * @return A modified copy of {@code this} object
+   */
+  public final CsharpLibraryDescriptionArg withResources(Map<String, ? extends SourcePath> entries) {
+    if (this.resources == entries) return this;
+    ImmutableMap<String, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return new CsharpLibraryDescriptionArg(
+        this.frameworkVer,
+        newValue,
+        this.dllName,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getDllName() dllName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for dllName
+   * @return A modified copy of the {@code this} object
+   */
+  public final CsharpLibraryDescriptionArg withDllName(String value) {
+    if (this.dllName.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "dllName");
+    return new CsharpLibraryDescriptionArg(
+        this.frameworkVer,
+        this.resources,
+        newValue,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  @SafeVarargs @SuppressWarnings("varargs")
+  public final CsharpLibraryDescriptionArg withDeps(Either<BuildTarget, String>... elements) {
+    ImmutableList<Either<BuildTarget, String>> newValue = ImmutableList.copyOf(elements);
+    return new CsharpLibraryDescriptionArg(
+        this.frameworkVer,
+        this.resources,
+        this.dllName,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CsharpLibraryDescriptionArg withDeps(Iterable<? extends Either<BuildTarget, String>> elements) {
+    if (this.deps == elements) return this;
+    ImmutableList<Either<BuildTarget, String>> newValue = ImmutableList.copyOf(elements);
+    return new CsharpLibraryDescriptionArg(
+        this.frameworkVer,
+        this.resources,
+        this.dllName,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final CsharpLibraryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new CsharpLibraryDescriptionArg(
+        this.frameworkVer,
+        this.resources,
+        this.dllName,
+        this.deps,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CsharpLibraryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new CsharpLibraryDescriptionArg(
+        this.frameworkVer,
+        this.resources,
+        this.dllName,
+        this.deps,
+        this.name,
+        newValue,
+        this.labels,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CsharpLibraryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new CsharpLibraryDescriptionArg(
+        this.frameworkVer,
+        this.resources,
+        this.dllName,
+        this.deps,
+        this.name,
+        newValue,
+        this.labels,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CsharpLibraryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new CsharpLibraryDescriptionArg(
+        this.frameworkVer,
+        this.resources,
+        this.dllName,
+        this.deps,
+        this.name,
+        this.licenses,
+        newValue,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CsharpLibraryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new CsharpLibraryDescriptionArg(
+        this.frameworkVer,
+        this.resources,
+        this.dllName,
+        this.deps,
+        this.name,
+        this.licenses,
+        newValue,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CsharpLibraryDescriptionArg withSrcs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new CsharpLibraryDescriptionArg(
+        this.frameworkVer,
+        this.resources,
+        this.dllName,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CsharpLibraryDescriptionArg withSrcs(Iterable<? extends SourcePath> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new CsharpLibraryDescriptionArg(
+        this.frameworkVer,
+        this.resources,
+        this.dllName,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CsharpLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CsharpLibraryDescriptionArg
+        && equalTo((CsharpLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(CsharpLibraryDescriptionArg another) {
+    return frameworkVer.equals(another.frameworkVer)
+        && resources.equals(another.resources)
+        && dllName.equals(another.dllName)
+        && deps.equals(another.deps)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && srcs.equals(another.srcs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code frameworkVer}, {@code resources}, {@code dllName}, {@code deps}, {@code name}, {@code licenses}, {@code labels}, {@code srcs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + frameworkVer.hashCode();
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + dllName.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CsharpLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CsharpLibraryDescriptionArg")
+        .omitNullValues()
+        .add("frameworkVer", frameworkVer)
+        .add("resources", resources)
+        .add("dllName", dllName)
+        .add("deps", deps)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("srcs", srcs)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CsharpLibraryDescriptionArg instance
+   */
+  static CsharpLibraryDescriptionArg copyOf(CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg instance) {
+    if (instance instanceof CsharpLibraryDescriptionArg) {
+      return (CsharpLibraryDescriptionArg) instance;
+    }
+    return CsharpLibraryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CsharpLibraryDescriptionArg CsharpLibraryDescriptionArg}.
+   * @return A new CsharpLibraryDescriptionArg builder
+   */
+  public static CsharpLibraryDescriptionArg.Builder builder() {
+    return new CsharpLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CsharpLibraryDescriptionArg CsharpLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_FRAMEWORK_VER = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable FrameworkVersion frameworkVer;
+    private ImmutableMap.Builder<String, SourcePath> resources = ImmutableMap.builder();
+    private @Nullable String dllName;
+    private ImmutableList.Builder<Either<BuildTarget, String>> deps = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CsharpLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CsharpLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCsharpLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasSrcs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasSrcs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg) {
+        CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg instance = (CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg) object;
+        setFrameworkVer(instance.getFrameworkVer());
+        putAllResources(instance.getResources());
+        addAllDeps(instance.getDeps());
+        setDllName(instance.getDllName());
+      }
+      if (object instanceof HasSrcs) {
+        HasSrcs instance = (HasSrcs) object;
+        addAllSrcs(instance.getSrcs());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getFrameworkVer() frameworkVer} attribute.
+     * @param frameworkVer The value for frameworkVer 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFrameworkVer(FrameworkVersion frameworkVer) {
+      this.frameworkVer = Objects.requireNonNull(frameworkVer, "frameworkVer");
+      initBits &= ~INIT_BIT_FRAMEWORK_VER;
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getResources() resources} map.
+     * @param key The key in the resources map
+     * @param value The associated value in the resources map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putResources(String key, SourcePath value) {
+      this.resources.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getResources() resources} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putResources(Map.Entry<String, ? extends SourcePath> entry) {
+      this.resources.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getResources() resources} map. Nulls are not permitted
+     * @param resources The entries that will be added to the resources map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResources(Map<String, ? extends SourcePath> resources) {
+      this.resources = ImmutableMap.builder();
+      return putAllResources(resources);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getResources() resources} map. Nulls are not permitted
+     * @param resources The entries that will be added to the resources map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllResources(Map<String, ? extends SourcePath> resources) {
+      this.resources.putAll(resources);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getDllName() dllName} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getDllName() dllName}.</em>
+     * @param dllName The value for dllName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDllName(String dllName) {
+      this.dllName = Objects.requireNonNull(dllName, "dllName");
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getDeps() deps} list.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(Either<BuildTarget, String> element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getDeps() deps} list.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @SafeVarargs @SuppressWarnings("varargs")
+    public final Builder addDeps(Either<BuildTarget, String>... elements) {
+      this.deps.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getDeps() deps} list.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends Either<BuildTarget, String>> elements) {
+      this.deps = ImmutableList.builder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getDeps() deps} list.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends Either<BuildTarget, String>> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link CsharpLibraryDescription.AbstractCsharpLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CsharpLibraryDescriptionArg CsharpLibraryDescriptionArg}.
+     * @return An immutable instance of CsharpLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CsharpLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CsharpLibraryDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_FRAMEWORK_VER) != 0) attributes.add("frameworkVer");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build CsharpLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,414 @@
+package com.facebook.buck.dotnet;
+
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PrebuiltDotnetLibraryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg"})
+@Immutable
+public final class PrebuiltDotnetLibraryDescriptionArg
+    implements PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg {
+  private final SourcePath assembly;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+
+  private PrebuiltDotnetLibraryDescriptionArg(
+      SourcePath assembly,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels) {
+    this.assembly = assembly;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+  }
+
+  /**
+   * @return The value of the {@code assembly} attribute
+   */
+  @Override
+  public SourcePath getAssembly() {
+    return assembly;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg#getAssembly() assembly} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for assembly
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltDotnetLibraryDescriptionArg withAssembly(SourcePath value) {
+    if (this.assembly == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "assembly");
+    return new PrebuiltDotnetLibraryDescriptionArg(newValue, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltDotnetLibraryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new PrebuiltDotnetLibraryDescriptionArg(this.assembly, newValue, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltDotnetLibraryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PrebuiltDotnetLibraryDescriptionArg(this.assembly, this.name, newValue, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltDotnetLibraryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PrebuiltDotnetLibraryDescriptionArg(this.assembly, this.name, newValue, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltDotnetLibraryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltDotnetLibraryDescriptionArg(this.assembly, this.name, this.licenses, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltDotnetLibraryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new PrebuiltDotnetLibraryDescriptionArg(this.assembly, this.name, this.licenses, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PrebuiltDotnetLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PrebuiltDotnetLibraryDescriptionArg
+        && equalTo((PrebuiltDotnetLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(PrebuiltDotnetLibraryDescriptionArg another) {
+    return assembly.equals(another.assembly)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code assembly}, {@code name}, {@code licenses}, {@code labels}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + assembly.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PrebuiltDotnetLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PrebuiltDotnetLibraryDescriptionArg")
+        .omitNullValues()
+        .add("assembly", assembly)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PrebuiltDotnetLibraryDescriptionArg instance
+   */
+  static PrebuiltDotnetLibraryDescriptionArg copyOf(PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg instance) {
+    if (instance instanceof PrebuiltDotnetLibraryDescriptionArg) {
+      return (PrebuiltDotnetLibraryDescriptionArg) instance;
+    }
+    return PrebuiltDotnetLibraryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PrebuiltDotnetLibraryDescriptionArg PrebuiltDotnetLibraryDescriptionArg}.
+   * @return A new PrebuiltDotnetLibraryDescriptionArg builder
+   */
+  public static PrebuiltDotnetLibraryDescriptionArg.Builder builder() {
+    return new PrebuiltDotnetLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PrebuiltDotnetLibraryDescriptionArg PrebuiltDotnetLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_ASSEMBLY = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable SourcePath assembly;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PrebuiltDotnetLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PrebuiltDotnetLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPrebuiltDotnetLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg) {
+        PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg instance = (PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg) object;
+        setAssembly(instance.getAssembly());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg#getAssembly() assembly} attribute.
+     * @param assembly The value for assembly 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAssembly(SourcePath assembly) {
+      this.assembly = Objects.requireNonNull(assembly, "assembly");
+      initBits &= ~INIT_BIT_ASSEMBLY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltDotnetLibraryDescription.AbstractPrebuiltDotnetLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PrebuiltDotnetLibraryDescriptionArg PrebuiltDotnetLibraryDescriptionArg}.
+     * @return An immutable instance of PrebuiltDotnetLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PrebuiltDotnetLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PrebuiltDotnetLibraryDescriptionArg(assembly, name, licenses.build(), labels.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_ASSEMBLY) != 0) attributes.add("assembly");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build PrebuiltDotnetLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,269 @@
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.event.external.events.BuckEventExternalInterface;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Utility class to help match up start and end events 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractEventPair"})
+@Immutable
+public final class EventPair extends AbstractEventPair {
+  private final @Nullable BuckEventExternalInterface start;
+  private final @Nullable BuckEventExternalInterface finish;
+
+  private EventPair(
+      Optional<? extends BuckEventExternalInterface> start,
+      Optional<? extends BuckEventExternalInterface> finish) {
+    this.start = start.orElse(null);
+    this.finish = finish.orElse(null);
+  }
+
+  private EventPair(
+      EventPair original,
+      @Nullable BuckEventExternalInterface start,
+      @Nullable BuckEventExternalInterface finish) {
+    this.start = start;
+    this.finish = finish;
+  }
+
+  /**
+   * @return The value of the {@code start} attribute
+   */
+  @Override
+  public Optional<BuckEventExternalInterface> getStart() {
+    return Optional.ofNullable(start);
+  }
+
+  /**
+   * @return The value of the {@code finish} attribute
+   */
+  @Override
+  public Optional<BuckEventExternalInterface> getFinish() {
+    return Optional.ofNullable(finish);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractEventPair#getStart() start} attribute.
+   * @param value The value for start
+   * @return A modified copy of {@code this} object
+   */
+  public final EventPair withStart(BuckEventExternalInterface value) {
+    @Nullable BuckEventExternalInterface newValue = Objects.requireNonNull(value, "start");
+    if (this.start == newValue) return this;
+    return new EventPair(this, newValue, this.finish);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractEventPair#getStart() start} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for start
+   * @return A modified copy of {@code this} object
+   */
+  public final EventPair withStart(Optional<? extends BuckEventExternalInterface> optional) {
+    @Nullable BuckEventExternalInterface value = optional.orElse(null);
+    if (this.start == value) return this;
+    return new EventPair(this, value, this.finish);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractEventPair#getFinish() finish} attribute.
+   * @param value The value for finish
+   * @return A modified copy of {@code this} object
+   */
+  public final EventPair withFinish(BuckEventExternalInterface value) {
+    @Nullable BuckEventExternalInterface newValue = Objects.requireNonNull(value, "finish");
+    if (this.finish == newValue) return this;
+    return new EventPair(this, this.start, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractEventPair#getFinish() finish} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for finish
+   * @return A modified copy of {@code this} object
+   */
+  public final EventPair withFinish(Optional<? extends BuckEventExternalInterface> optional) {
+    @Nullable BuckEventExternalInterface value = optional.orElse(null);
+    if (this.finish == value) return this;
+    return new EventPair(this, this.start, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code EventPair} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof EventPair
+        && equalTo((EventPair) another);
+  }
+
+  private boolean equalTo(EventPair another) {
+    return Objects.equals(start, another.start)
+        && Objects.equals(finish, another.finish);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code start}, {@code finish}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(start);
+    h += (h << 5) + Objects.hashCode(finish);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code EventPair} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("EventPair")
+        .omitNullValues()
+        .add("start", start)
+        .add("finish", finish)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code EventPair} instance.
+   * @param start The value for the {@code start} attribute
+   * @param finish The value for the {@code finish} attribute
+   * @return An immutable EventPair instance
+   */
+  public static EventPair of(Optional<? extends BuckEventExternalInterface> start, Optional<? extends BuckEventExternalInterface> finish) {
+    return new EventPair(start, finish);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractEventPair} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable EventPair instance
+   */
+  static EventPair copyOf(AbstractEventPair instance) {
+    if (instance instanceof EventPair) {
+      return (EventPair) instance;
+    }
+    return EventPair.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link EventPair EventPair}.
+   * @return A new EventPair builder
+   */
+  public static EventPair.Builder builder() {
+    return new EventPair.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link EventPair EventPair}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable BuckEventExternalInterface start;
+    private @Nullable BuckEventExternalInterface finish;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code EventPair} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(EventPair instance) {
+      return from((AbstractEventPair) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractEventPair} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractEventPair instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<BuckEventExternalInterface> startOptional = instance.getStart();
+      if (startOptional.isPresent()) {
+        setStart(startOptional);
+      }
+      Optional<BuckEventExternalInterface> finishOptional = instance.getFinish();
+      if (finishOptional.isPresent()) {
+        setFinish(finishOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractEventPair#getStart() start} to start.
+     * @param start The value for start
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStart(BuckEventExternalInterface start) {
+      this.start = Objects.requireNonNull(start, "start");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractEventPair#getStart() start} to start.
+     * @param start The value for start
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStart(Optional<? extends BuckEventExternalInterface> start) {
+      this.start = start.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractEventPair#getFinish() finish} to finish.
+     * @param finish The value for finish
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFinish(BuckEventExternalInterface finish) {
+      this.finish = Objects.requireNonNull(finish, "finish");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractEventPair#getFinish() finish} to finish.
+     * @param finish The value for finish
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFinish(Optional<? extends BuckEventExternalInterface> finish) {
+      this.finish = finish.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link EventPair EventPair}.
+     * @return An immutable instance of EventPair
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public EventPair build() {
+      return new EventPair(null, start, finish);
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.event.external.events.BuckEventExternalInterface;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Proxy events are used by the logging system when we need to slice a {@link
+ * com.facebook.buck.event.BuckEvent} in half in order to calculate time elapsed.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractProxyBuckEvent"})
+@Immutable
+public final class ProxyBuckEvent extends AbstractProxyBuckEvent {
+  private final long timestamp;
+
+  private ProxyBuckEvent(long timestamp) {
+    this.timestamp = timestamp;
+  }
+
+  /**
+   * @return The value of the {@code timestamp} attribute
+   */
+  @Override
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProxyBuckEvent#getTimestamp() timestamp} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for timestamp
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProxyBuckEvent withTimestamp(long value) {
+    if (this.timestamp == value) return this;
+    return new ProxyBuckEvent(value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ProxyBuckEvent} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ProxyBuckEvent
+        && equalTo((ProxyBuckEvent) another);
+  }
+
+  private boolean equalTo(ProxyBuckEvent another) {
+    return timestamp == another.timestamp;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code timestamp}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Longs.hashCode(timestamp);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ProxyBuckEvent} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProxyBuckEvent")
+        .omitNullValues()
+        .add("timestamp", timestamp)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ProxyBuckEvent} instance.
+   * @param timestamp The value for the {@code timestamp} attribute
+   * @return An immutable ProxyBuckEvent instance
+   */
+  public static ProxyBuckEvent of(long timestamp) {
+    return new ProxyBuckEvent(timestamp);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractProxyBuckEvent} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ProxyBuckEvent instance
+   */
+  static ProxyBuckEvent copyOf(AbstractProxyBuckEvent instance) {
+    if (instance instanceof ProxyBuckEvent) {
+      return (ProxyBuckEvent) instance;
+    }
+    return ProxyBuckEvent.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ProxyBuckEvent ProxyBuckEvent}.
+   * @return A new ProxyBuckEvent builder
+   */
+  public static ProxyBuckEvent.Builder builder() {
+    return new ProxyBuckEvent.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ProxyBuckEvent ProxyBuckEvent}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TIMESTAMP = 0x1L;
+    private long initBits = 0x1L;
+
+    private long timestamp;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ProxyBuckEvent} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ProxyBuckEvent instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractProxyBuckEvent} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractProxyBuckEvent instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.event.external.events.BuckEventExternalInterface} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuckEventExternalInterface instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof AbstractProxyBuckEvent) {
+        AbstractProxyBuckEvent instance = (AbstractProxyBuckEvent) object;
+        if ((bits & 0x1L) == 0) {
+          setTimestamp(instance.getTimestamp());
+          bits |= 0x1L;
+        }
+      }
+      if (object instanceof BuckEventExternalInterface) {
+        BuckEventExternalInterface instance = (BuckEventExternalInterface) object;
+        if ((bits & 0x1L) == 0) {
+          setTimestamp(instance.getTimestamp());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProxyBuckEvent#getTimestamp() timestamp} attribute.
+     * @param timestamp The value for timestamp 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTimestamp(long timestamp) {
+      this.timestamp = timestamp;
+      initBits &= ~INIT_BIT_TIMESTAMP;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link ProxyBuckEvent ProxyBuckEvent}.
+     * @return An immutable instance of ProxyBuckEvent
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ProxyBuckEvent build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ProxyBuckEvent(timestamp);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TIMESTAMP) != 0) attributes.add("timestamp");
+      return "Cannot build ProxyBuckEvent, some of required attributes are not set " + attributes;
+    }
+  }
+}
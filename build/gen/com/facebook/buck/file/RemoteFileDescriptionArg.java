@@ -0,0 +1,582 @@
+package com.facebook.buck.file;
+
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code RemoteFileDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "RemoteFileDescription.AbstractRemoteFileDescriptionArg"})
+@Immutable
+public final class RemoteFileDescriptionArg
+    implements RemoteFileDescription.AbstractRemoteFileDescriptionArg {
+  private final URI url;
+  private final String sha1;
+  private final @Nullable String out;
+  private final @Nullable RemoteFile.Type type;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+
+  private RemoteFileDescriptionArg(
+      URI url,
+      String sha1,
+      @Nullable String out,
+      @Nullable RemoteFile.Type type,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels) {
+    this.url = url;
+    this.sha1 = sha1;
+    this.out = out;
+    this.type = type;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+  }
+
+  /**
+   * @return The value of the {@code url} attribute
+   */
+  @Override
+  public URI getUrl() {
+    return url;
+  }
+
+  /**
+   * @return The value of the {@code sha1} attribute
+   */
+  @Override
+  public String getSha1() {
+    return sha1;
+  }
+
+  /**
+   * @return The value of the {@code out} attribute
+   */
+  @Override
+  public Optional<String> getOut() {
+    return Optional.ofNullable(out);
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public Optional<RemoteFile.Type> getType() {
+    return Optional.ofNullable(type);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getUrl() url} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for url
+   * @return A modified copy of the {@code this} object
+   */
+  public final RemoteFileDescriptionArg withUrl(URI value) {
+    if (this.url == value) return this;
+    URI newValue = Objects.requireNonNull(value, "url");
+    return new RemoteFileDescriptionArg(newValue, this.sha1, this.out, this.type, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getSha1() sha1} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sha1
+   * @return A modified copy of the {@code this} object
+   */
+  public final RemoteFileDescriptionArg withSha1(String value) {
+    if (this.sha1.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "sha1");
+    return new RemoteFileDescriptionArg(this.url, newValue, this.out, this.type, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getOut() out} attribute.
+   * @param value The value for out
+   * @return A modified copy of {@code this} object
+   */
+  public final RemoteFileDescriptionArg withOut(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "out");
+    if (Objects.equals(this.out, newValue)) return this;
+    return new RemoteFileDescriptionArg(this.url, this.sha1, newValue, this.type, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getOut() out} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for out
+   * @return A modified copy of {@code this} object
+   */
+  public final RemoteFileDescriptionArg withOut(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.out, value)) return this;
+    return new RemoteFileDescriptionArg(this.url, this.sha1, value, this.type, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getType() type} attribute.
+   * @param value The value for type
+   * @return A modified copy of {@code this} object
+   */
+  public final RemoteFileDescriptionArg withType(RemoteFile.Type value) {
+    @Nullable RemoteFile.Type newValue = Objects.requireNonNull(value, "type");
+    if (this.type == newValue) return this;
+    return new RemoteFileDescriptionArg(this.url, this.sha1, this.out, newValue, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getType() type} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for type
+   * @return A modified copy of {@code this} object
+   */
+  public final RemoteFileDescriptionArg withType(Optional<? extends RemoteFile.Type> optional) {
+    @Nullable RemoteFile.Type value = optional.orElse(null);
+    if (Objects.equals(this.type, value)) return this;
+    return new RemoteFileDescriptionArg(this.url, this.sha1, this.out, value, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final RemoteFileDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new RemoteFileDescriptionArg(this.url, this.sha1, this.out, this.type, newValue, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RemoteFileDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new RemoteFileDescriptionArg(this.url, this.sha1, this.out, this.type, this.name, newValue, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RemoteFileDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new RemoteFileDescriptionArg(this.url, this.sha1, this.out, this.type, this.name, newValue, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RemoteFileDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new RemoteFileDescriptionArg(this.url, this.sha1, this.out, this.type, this.name, this.licenses, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RemoteFileDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new RemoteFileDescriptionArg(this.url, this.sha1, this.out, this.type, this.name, this.licenses, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RemoteFileDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RemoteFileDescriptionArg
+        && equalTo((RemoteFileDescriptionArg) another);
+  }
+
+  private boolean equalTo(RemoteFileDescriptionArg another) {
+    return url.equals(another.url)
+        && sha1.equals(another.sha1)
+        && Objects.equals(out, another.out)
+        && Objects.equals(type, another.type)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code url}, {@code sha1}, {@code out}, {@code type}, {@code name}, {@code licenses}, {@code labels}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + url.hashCode();
+    h += (h << 5) + sha1.hashCode();
+    h += (h << 5) + Objects.hashCode(out);
+    h += (h << 5) + Objects.hashCode(type);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RemoteFileDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RemoteFileDescriptionArg")
+        .omitNullValues()
+        .add("url", url)
+        .add("sha1", sha1)
+        .add("out", out)
+        .add("type", type)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable RemoteFileDescriptionArg instance
+   */
+  static RemoteFileDescriptionArg copyOf(RemoteFileDescription.AbstractRemoteFileDescriptionArg instance) {
+    if (instance instanceof RemoteFileDescriptionArg) {
+      return (RemoteFileDescriptionArg) instance;
+    }
+    return RemoteFileDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link RemoteFileDescriptionArg RemoteFileDescriptionArg}.
+   * @return A new RemoteFileDescriptionArg builder
+   */
+  public static RemoteFileDescriptionArg.Builder builder() {
+    return new RemoteFileDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link RemoteFileDescriptionArg RemoteFileDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_URL = 0x1L;
+    private static final long INIT_BIT_SHA1 = 0x2L;
+    private static final long INIT_BIT_NAME = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable URI url;
+    private @Nullable String sha1;
+    private @Nullable String out;
+    private @Nullable RemoteFile.Type type;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RemoteFileDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(RemoteFileDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractRemoteFileDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(RemoteFileDescription.AbstractRemoteFileDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof RemoteFileDescription.AbstractRemoteFileDescriptionArg) {
+        RemoteFileDescription.AbstractRemoteFileDescriptionArg instance = (RemoteFileDescription.AbstractRemoteFileDescriptionArg) object;
+        setSha1(instance.getSha1());
+        Optional<RemoteFile.Type> typeOptional = instance.getType();
+        if (typeOptional.isPresent()) {
+          setType(typeOptional);
+        }
+        setUrl(instance.getUrl());
+        Optional<String> outOptional = instance.getOut();
+        if (outOptional.isPresent()) {
+          setOut(outOptional);
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getUrl() url} attribute.
+     * @param url The value for url 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUrl(URI url) {
+      this.url = Objects.requireNonNull(url, "url");
+      initBits &= ~INIT_BIT_URL;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getSha1() sha1} attribute.
+     * @param sha1 The value for sha1 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSha1(String sha1) {
+      this.sha1 = Objects.requireNonNull(sha1, "sha1");
+      initBits &= ~INIT_BIT_SHA1;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getOut() out} to out.
+     * @param out The value for out
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOut(String out) {
+      this.out = Objects.requireNonNull(out, "out");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getOut() out} to out.
+     * @param out The value for out
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOut(Optional<String> out) {
+      this.out = out.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getType() type} to type.
+     * @param type The value for type
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setType(RemoteFile.Type type) {
+      this.type = Objects.requireNonNull(type, "type");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getType() type} to type.
+     * @param type The value for type
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setType(Optional<? extends RemoteFile.Type> type) {
+      this.type = type.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link RemoteFileDescription.AbstractRemoteFileDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link RemoteFileDescriptionArg RemoteFileDescriptionArg}.
+     * @return An immutable instance of RemoteFileDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RemoteFileDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new RemoteFileDescriptionArg(url, sha1, out, type, name, licenses.build(), labels.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_URL) != 0) attributes.add("url");
+      if ((initBits & INIT_BIT_SHA1) != 0) attributes.add("sha1");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build RemoteFileDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,935 @@
+package com.facebook.buck.go;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasSrcs;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code GoBinaryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "GoBinaryDescription.AbstractGoBinaryDescriptionArg"})
+@Immutable
+public final class GoBinaryDescriptionArg
+    implements GoBinaryDescription.AbstractGoBinaryDescriptionArg {
+  private final ImmutableList<String> compilerFlags;
+  private final ImmutableList<String> assemblerFlags;
+  private final ImmutableList<String> linkerFlags;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<SourcePath> srcs;
+
+  private GoBinaryDescriptionArg(
+      ImmutableList<String> compilerFlags,
+      ImmutableList<String> assemblerFlags,
+      ImmutableList<String> linkerFlags,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<SourcePath> srcs) {
+    this.compilerFlags = compilerFlags;
+    this.assemblerFlags = assemblerFlags;
+    this.linkerFlags = linkerFlags;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.srcs = srcs;
+  }
+
+  /**
+   * @return The value of the {@code compilerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCompilerFlags() {
+    return compilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code assemblerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getAssemblerFlags() {
+    return assemblerFlags;
+  }
+
+  /**
+   * @return The value of the {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getCompilerFlags() compilerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoBinaryDescriptionArg withCompilerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GoBinaryDescriptionArg(
+        newValue,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getCompilerFlags() compilerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of compilerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoBinaryDescriptionArg withCompilerFlags(Iterable<String> elements) {
+    if (this.compilerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GoBinaryDescriptionArg(
+        newValue,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getAssemblerFlags() assemblerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoBinaryDescriptionArg withAssemblerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GoBinaryDescriptionArg(
+        this.compilerFlags,
+        newValue,
+        this.linkerFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getAssemblerFlags() assemblerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of assemblerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoBinaryDescriptionArg withAssemblerFlags(Iterable<String> elements) {
+    if (this.assemblerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GoBinaryDescriptionArg(
+        this.compilerFlags,
+        newValue,
+        this.linkerFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLinkerFlags() linkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoBinaryDescriptionArg withLinkerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GoBinaryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLinkerFlags() linkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of linkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoBinaryDescriptionArg withLinkerFlags(Iterable<String> elements) {
+    if (this.linkerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GoBinaryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final GoBinaryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new GoBinaryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoBinaryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new GoBinaryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoBinaryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new GoBinaryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoBinaryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new GoBinaryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoBinaryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new GoBinaryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoBinaryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new GoBinaryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoBinaryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new GoBinaryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoBinaryDescriptionArg withSrcs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new GoBinaryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoBinaryDescriptionArg withSrcs(Iterable<? extends SourcePath> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new GoBinaryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code GoBinaryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof GoBinaryDescriptionArg
+        && equalTo((GoBinaryDescriptionArg) another);
+  }
+
+  private boolean equalTo(GoBinaryDescriptionArg another) {
+    return compilerFlags.equals(another.compilerFlags)
+        && assemblerFlags.equals(another.assemblerFlags)
+        && linkerFlags.equals(another.linkerFlags)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && srcs.equals(another.srcs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code compilerFlags}, {@code assemblerFlags}, {@code linkerFlags}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code srcs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + compilerFlags.hashCode();
+    h += (h << 5) + assemblerFlags.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GoBinaryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GoBinaryDescriptionArg")
+        .omitNullValues()
+        .add("compilerFlags", compilerFlags)
+        .add("assemblerFlags", assemblerFlags)
+        .add("linkerFlags", linkerFlags)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("srcs", srcs)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable GoBinaryDescriptionArg instance
+   */
+  static GoBinaryDescriptionArg copyOf(GoBinaryDescription.AbstractGoBinaryDescriptionArg instance) {
+    if (instance instanceof GoBinaryDescriptionArg) {
+      return (GoBinaryDescriptionArg) instance;
+    }
+    return GoBinaryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link GoBinaryDescriptionArg GoBinaryDescriptionArg}.
+   * @return A new GoBinaryDescriptionArg builder
+   */
+  public static GoBinaryDescriptionArg.Builder builder() {
+    return new GoBinaryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link GoBinaryDescriptionArg GoBinaryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableList.Builder<String> compilerFlags = ImmutableList.builder();
+    private ImmutableList.Builder<String> assemblerFlags = ImmutableList.builder();
+    private ImmutableList.Builder<String> linkerFlags = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code GoBinaryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(GoBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractGoBinaryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(GoBinaryDescription.AbstractGoBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasSrcs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasSrcs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof GoBinaryDescription.AbstractGoBinaryDescriptionArg) {
+        GoBinaryDescription.AbstractGoBinaryDescriptionArg instance = (GoBinaryDescription.AbstractGoBinaryDescriptionArg) object;
+        addAllAssemblerFlags(instance.getAssemblerFlags());
+        addAllCompilerFlags(instance.getCompilerFlags());
+        addAllLinkerFlags(instance.getLinkerFlags());
+      }
+      if (object instanceof HasSrcs) {
+        HasSrcs instance = (HasSrcs) object;
+        addAllSrcs(instance.getSrcs());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Adds one element to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param element A compilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(String element) {
+      this.compilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An array of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(String... elements) {
+      this.compilerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilerFlags(Iterable<String> elements) {
+      this.compilerFlags = ImmutableList.builder();
+      return addAllCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCompilerFlags(Iterable<String> elements) {
+      this.compilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getAssemblerFlags() assemblerFlags} list.
+     * @param element A assemblerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAssemblerFlags(String element) {
+      this.assemblerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getAssemblerFlags() assemblerFlags} list.
+     * @param elements An array of assemblerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAssemblerFlags(String... elements) {
+      this.assemblerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getAssemblerFlags() assemblerFlags} list.
+     * @param elements An iterable of assemblerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAssemblerFlags(Iterable<String> elements) {
+      this.assemblerFlags = ImmutableList.builder();
+      return addAllAssemblerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getAssemblerFlags() assemblerFlags} list.
+     * @param elements An iterable of assemblerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllAssemblerFlags(Iterable<String> elements) {
+      this.assemblerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoBinaryDescription.AbstractGoBinaryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link GoBinaryDescriptionArg GoBinaryDescriptionArg}.
+     * @return An immutable instance of GoBinaryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public GoBinaryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new GoBinaryDescriptionArg(
+          compilerFlags.build(),
+          assemblerFlags.build(),
+          linkerFlags.build(),
+          name,
+          licenses.build(),
+          labels.build(),
+          deps.build(),
+          srcs.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build GoBinaryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,1172 @@
+package com.facebook.buck.go;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasSrcs;
+import com.facebook.buck.rules.HasTests;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code GoLibraryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "GoLibraryDescription.AbstractGoLibraryDescriptionArg"})
+@Immutable
+public final class GoLibraryDescriptionArg
+    implements GoLibraryDescription.AbstractGoLibraryDescriptionArg {
+  private final ImmutableList<String> compilerFlags;
+  private final ImmutableList<String> assemblerFlags;
+  private final @Nullable String packageName;
+  private final ImmutableSortedSet<BuildTarget> exportedDeps;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<SourcePath> srcs;
+  private final ImmutableSortedSet<BuildTarget> tests;
+
+  private GoLibraryDescriptionArg(
+      ImmutableList<String> compilerFlags,
+      ImmutableList<String> assemblerFlags,
+      @Nullable String packageName,
+      ImmutableSortedSet<BuildTarget> exportedDeps,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<SourcePath> srcs,
+      ImmutableSortedSet<BuildTarget> tests) {
+    this.compilerFlags = compilerFlags;
+    this.assemblerFlags = assemblerFlags;
+    this.packageName = packageName;
+    this.exportedDeps = exportedDeps;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.srcs = srcs;
+    this.tests = tests;
+  }
+
+  /**
+   * @return The value of the {@code compilerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCompilerFlags() {
+    return compilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code assemblerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getAssemblerFlags() {
+    return assemblerFlags;
+  }
+
+  /**
+   * @return The value of the {@code packageName} attribute
+   */
+  @Override
+  public Optional<String> getPackageName() {
+    return Optional.ofNullable(packageName);
+  }
+
+  /**
+   * @return The value of the {@code exportedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getExportedDeps() {
+    return exportedDeps;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getCompilerFlags() compilerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withCompilerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GoLibraryDescriptionArg(
+        newValue,
+        this.assemblerFlags,
+        this.packageName,
+        this.exportedDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getCompilerFlags() compilerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of compilerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withCompilerFlags(Iterable<String> elements) {
+    if (this.compilerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GoLibraryDescriptionArg(
+        newValue,
+        this.assemblerFlags,
+        this.packageName,
+        this.exportedDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getAssemblerFlags() assemblerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withAssemblerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GoLibraryDescriptionArg(
+        this.compilerFlags,
+        newValue,
+        this.packageName,
+        this.exportedDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getAssemblerFlags() assemblerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of assemblerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withAssemblerFlags(Iterable<String> elements) {
+    if (this.assemblerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GoLibraryDescriptionArg(
+        this.compilerFlags,
+        newValue,
+        this.packageName,
+        this.exportedDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getPackageName() packageName} attribute.
+   * @param value The value for packageName
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withPackageName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "packageName");
+    if (Objects.equals(this.packageName, newValue)) return this;
+    return new GoLibraryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        newValue,
+        this.exportedDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getPackageName() packageName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for packageName
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withPackageName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.packageName, value)) return this;
+    return new GoLibraryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        value,
+        this.exportedDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getExportedDeps() exportedDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withExportedDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new GoLibraryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.packageName,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getExportedDeps() exportedDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withExportedDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.exportedDeps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new GoLibraryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.packageName,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final GoLibraryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new GoLibraryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.packageName,
+        this.exportedDeps,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new GoLibraryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.packageName,
+        this.exportedDeps,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new GoLibraryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.packageName,
+        this.exportedDeps,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new GoLibraryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.packageName,
+        this.exportedDeps,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new GoLibraryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.packageName,
+        this.exportedDeps,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new GoLibraryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.packageName,
+        this.exportedDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new GoLibraryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.packageName,
+        this.exportedDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withSrcs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new GoLibraryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.packageName,
+        this.exportedDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withSrcs(Iterable<? extends SourcePath> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new GoLibraryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.packageName,
+        this.exportedDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getTests() tests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new GoLibraryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.packageName,
+        this.exportedDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getTests() tests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of tests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLibraryDescriptionArg withTests(Iterable<? extends BuildTarget> elements) {
+    if (this.tests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new GoLibraryDescriptionArg(
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.packageName,
+        this.exportedDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code GoLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof GoLibraryDescriptionArg
+        && equalTo((GoLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(GoLibraryDescriptionArg another) {
+    return compilerFlags.equals(another.compilerFlags)
+        && assemblerFlags.equals(another.assemblerFlags)
+        && Objects.equals(packageName, another.packageName)
+        && exportedDeps.equals(another.exportedDeps)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && srcs.equals(another.srcs)
+        && tests.equals(another.tests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code compilerFlags}, {@code assemblerFlags}, {@code packageName}, {@code exportedDeps}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code srcs}, {@code tests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + compilerFlags.hashCode();
+    h += (h << 5) + assemblerFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(packageName);
+    h += (h << 5) + exportedDeps.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + tests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GoLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GoLibraryDescriptionArg")
+        .omitNullValues()
+        .add("compilerFlags", compilerFlags)
+        .add("assemblerFlags", assemblerFlags)
+        .add("packageName", packageName)
+        .add("exportedDeps", exportedDeps)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("srcs", srcs)
+        .add("tests", tests)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable GoLibraryDescriptionArg instance
+   */
+  static GoLibraryDescriptionArg copyOf(GoLibraryDescription.AbstractGoLibraryDescriptionArg instance) {
+    if (instance instanceof GoLibraryDescriptionArg) {
+      return (GoLibraryDescriptionArg) instance;
+    }
+    return GoLibraryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link GoLibraryDescriptionArg GoLibraryDescriptionArg}.
+   * @return A new GoLibraryDescriptionArg builder
+   */
+  public static GoLibraryDescriptionArg.Builder builder() {
+    return new GoLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link GoLibraryDescriptionArg GoLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableList.Builder<String> compilerFlags = ImmutableList.builder();
+    private ImmutableList.Builder<String> assemblerFlags = ImmutableList.builder();
+    private @Nullable String packageName;
+    private ImmutableSortedSet.Builder<BuildTarget> exportedDeps = ImmutableSortedSet.naturalOrder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code GoLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(GoLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractGoLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(GoLibraryDescription.AbstractGoLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasSrcs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasSrcs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof GoLibraryDescription.AbstractGoLibraryDescriptionArg) {
+        GoLibraryDescription.AbstractGoLibraryDescriptionArg instance = (GoLibraryDescription.AbstractGoLibraryDescriptionArg) object;
+        addAllAssemblerFlags(instance.getAssemblerFlags());
+        Optional<String> packageNameOptional = instance.getPackageName();
+        if (packageNameOptional.isPresent()) {
+          setPackageName(packageNameOptional);
+        }
+        addAllExportedDeps(instance.getExportedDeps());
+        addAllCompilerFlags(instance.getCompilerFlags());
+      }
+      if (object instanceof HasSrcs) {
+        HasSrcs instance = (HasSrcs) object;
+        addAllSrcs(instance.getSrcs());
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Adds one element to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param element A compilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(String element) {
+      this.compilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An array of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(String... elements) {
+      this.compilerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilerFlags(Iterable<String> elements) {
+      this.compilerFlags = ImmutableList.builder();
+      return addAllCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCompilerFlags(Iterable<String> elements) {
+      this.compilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getAssemblerFlags() assemblerFlags} list.
+     * @param element A assemblerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAssemblerFlags(String element) {
+      this.assemblerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getAssemblerFlags() assemblerFlags} list.
+     * @param elements An array of assemblerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAssemblerFlags(String... elements) {
+      this.assemblerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getAssemblerFlags() assemblerFlags} list.
+     * @param elements An iterable of assemblerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAssemblerFlags(Iterable<String> elements) {
+      this.assemblerFlags = ImmutableList.builder();
+      return addAllAssemblerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getAssemblerFlags() assemblerFlags} list.
+     * @param elements An iterable of assemblerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllAssemblerFlags(Iterable<String> elements) {
+      this.assemblerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getPackageName() packageName} to packageName.
+     * @param packageName The value for packageName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackageName(String packageName) {
+      this.packageName = Objects.requireNonNull(packageName, "packageName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getPackageName() packageName} to packageName.
+     * @param packageName The value for packageName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackageName(Optional<String> packageName) {
+      this.packageName = packageName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param element A exportedDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedDeps(BuildTarget element) {
+      this.exportedDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An array of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedDeps(BuildTarget... elements) {
+      this.exportedDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps = ImmutableSortedSet.naturalOrder();
+      return addAllExportedDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoLibraryDescription.AbstractGoLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link GoLibraryDescriptionArg GoLibraryDescriptionArg}.
+     * @return An immutable instance of GoLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public GoLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new GoLibraryDescriptionArg(
+          compilerFlags.build(),
+          assemblerFlags.build(),
+          packageName,
+          exportedDeps.build(),
+          name,
+          licenses.build(),
+          labels.build(),
+          deps.build(),
+          srcs.build(),
+          tests.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build GoLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
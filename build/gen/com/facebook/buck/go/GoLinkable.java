@@ -0,0 +1,284 @@
+package com.facebook.buck.go;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractGoLinkable}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code GoLinkable.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractGoLinkable"})
+@Immutable
+public final class GoLinkable extends AbstractGoLinkable {
+  private final ImmutableMap<Path, SourcePath> goLinkInput;
+  private final ImmutableSet<BuildTarget> exportedDeps;
+
+  private GoLinkable(
+      ImmutableMap<Path, SourcePath> goLinkInput,
+      ImmutableSet<BuildTarget> exportedDeps) {
+    this.goLinkInput = goLinkInput;
+    this.exportedDeps = exportedDeps;
+  }
+
+  /**
+   * @return The value of the {@code goLinkInput} attribute
+   */
+  @Override
+  public ImmutableMap<Path, SourcePath> getGoLinkInput() {
+    return goLinkInput;
+  }
+
+  /**
+   * @return The value of the {@code exportedDeps} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getExportedDeps() {
+    return exportedDeps;
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractGoLinkable#getGoLinkInput() goLinkInput} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the goLinkInput map
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLinkable withGoLinkInput(Map<? extends Path, ? extends SourcePath> entries) {
+    if (this.goLinkInput == entries) return this;
+    ImmutableMap<Path, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return new GoLinkable(newValue, this.exportedDeps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractGoLinkable#getExportedDeps() exportedDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLinkable withExportedDeps(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new GoLinkable(this.goLinkInput, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractGoLinkable#getExportedDeps() exportedDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoLinkable withExportedDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.exportedDeps == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new GoLinkable(this.goLinkInput, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code GoLinkable} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof GoLinkable
+        && equalTo((GoLinkable) another);
+  }
+
+  private boolean equalTo(GoLinkable another) {
+    return goLinkInput.equals(another.goLinkInput)
+        && exportedDeps.equals(another.exportedDeps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code goLinkInput}, {@code exportedDeps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + goLinkInput.hashCode();
+    h += (h << 5) + exportedDeps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GoLinkable} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GoLinkable")
+        .omitNullValues()
+        .add("goLinkInput", goLinkInput)
+        .add("exportedDeps", exportedDeps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractGoLinkable} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable GoLinkable instance
+   */
+  static GoLinkable copyOf(AbstractGoLinkable instance) {
+    if (instance instanceof GoLinkable) {
+      return (GoLinkable) instance;
+    }
+    return GoLinkable.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link GoLinkable GoLinkable}.
+   * @return A new GoLinkable builder
+   */
+  public static GoLinkable.Builder builder() {
+    return new GoLinkable.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link GoLinkable GoLinkable}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableMap.Builder<Path, SourcePath> goLinkInput = ImmutableMap.builder();
+    private ImmutableSet.Builder<BuildTarget> exportedDeps = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code GoLinkable} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(GoLinkable instance) {
+      return from((AbstractGoLinkable) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractGoLinkable} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractGoLinkable instance) {
+      Objects.requireNonNull(instance, "instance");
+      putAllGoLinkInput(instance.getGoLinkInput());
+      addAllExportedDeps(instance.getExportedDeps());
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractGoLinkable#getGoLinkInput() goLinkInput} map.
+     * @param key The key in the goLinkInput map
+     * @param value The associated value in the goLinkInput map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putGoLinkInput(Path key, SourcePath value) {
+      this.goLinkInput.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractGoLinkable#getGoLinkInput() goLinkInput} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putGoLinkInput(Map.Entry<? extends Path, ? extends SourcePath> entry) {
+      this.goLinkInput.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractGoLinkable#getGoLinkInput() goLinkInput} map. Nulls are not permitted
+     * @param goLinkInput The entries that will be added to the goLinkInput map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGoLinkInput(Map<? extends Path, ? extends SourcePath> goLinkInput) {
+      this.goLinkInput = ImmutableMap.builder();
+      return putAllGoLinkInput(goLinkInput);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractGoLinkable#getGoLinkInput() goLinkInput} map. Nulls are not permitted
+     * @param goLinkInput The entries that will be added to the goLinkInput map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllGoLinkInput(Map<? extends Path, ? extends SourcePath> goLinkInput) {
+      this.goLinkInput.putAll(goLinkInput);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractGoLinkable#getExportedDeps() exportedDeps} set.
+     * @param element A exportedDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedDeps(BuildTarget element) {
+      this.exportedDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractGoLinkable#getExportedDeps() exportedDeps} set.
+     * @param elements An array of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedDeps(BuildTarget... elements) {
+      this.exportedDeps.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractGoLinkable#getExportedDeps() exportedDeps} set.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps = ImmutableSet.builder();
+      return addAllExportedDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractGoLinkable#getExportedDeps() exportedDeps} set.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link GoLinkable GoLinkable}.
+     * @return An immutable instance of GoLinkable
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public GoLinkable build() {
+      return new GoLinkable(goLinkInput.build(), exportedDeps.build());
+    }
+  }
+}
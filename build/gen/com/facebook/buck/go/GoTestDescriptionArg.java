@@ -0,0 +1,1620 @@
+package com.facebook.buck.go;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasContacts;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasSrcs;
+import com.facebook.buck.rules.HasTestTimeout;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link GoTestDescription.AbstractGoTestDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code GoTestDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "GoTestDescription.AbstractGoTestDescriptionArg"})
+@Immutable
+public final class GoTestDescriptionArg
+    implements GoTestDescription.AbstractGoTestDescriptionArg {
+  private final @Nullable BuildTarget library;
+  private final @Nullable String packageName;
+  private final ImmutableList<String> compilerFlags;
+  private final ImmutableList<String> assemblerFlags;
+  private final ImmutableList<String> linkerFlags;
+  private final boolean runTestSeparately;
+  private final ImmutableSortedSet<SourcePath> resources;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<String> contacts;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<SourcePath> srcs;
+  private final @Nullable Long testRuleTimeoutMs;
+
+  private GoTestDescriptionArg(GoTestDescriptionArg.Builder builder) {
+    this.library = builder.library;
+    this.packageName = builder.packageName;
+    this.compilerFlags = builder.compilerFlags.build();
+    this.assemblerFlags = builder.assemblerFlags.build();
+    this.linkerFlags = builder.linkerFlags.build();
+    this.resources = builder.resources.build();
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.contacts = builder.contacts.build();
+    this.deps = builder.deps.build();
+    this.srcs = builder.srcs.build();
+    this.testRuleTimeoutMs = builder.testRuleTimeoutMs;
+    this.runTestSeparately = builder.runTestSeparatelyIsSet()
+        ? builder.runTestSeparately
+        : GoTestDescription.AbstractGoTestDescriptionArg.super.getRunTestSeparately();
+  }
+
+  private GoTestDescriptionArg(
+      @Nullable BuildTarget library,
+      @Nullable String packageName,
+      ImmutableList<String> compilerFlags,
+      ImmutableList<String> assemblerFlags,
+      ImmutableList<String> linkerFlags,
+      boolean runTestSeparately,
+      ImmutableSortedSet<SourcePath> resources,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<String> contacts,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<SourcePath> srcs,
+      @Nullable Long testRuleTimeoutMs) {
+    this.library = library;
+    this.packageName = packageName;
+    this.compilerFlags = compilerFlags;
+    this.assemblerFlags = assemblerFlags;
+    this.linkerFlags = linkerFlags;
+    this.runTestSeparately = runTestSeparately;
+    this.resources = resources;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.contacts = contacts;
+    this.deps = deps;
+    this.srcs = srcs;
+    this.testRuleTimeoutMs = testRuleTimeoutMs;
+  }
+
+  /**
+   * @return The value of the {@code library} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getLibrary() {
+    return Optional.ofNullable(library);
+  }
+
+  /**
+   * @return The value of the {@code packageName} attribute
+   */
+  @Override
+  public Optional<String> getPackageName() {
+    return Optional.ofNullable(packageName);
+  }
+
+  /**
+   * @return The value of the {@code compilerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCompilerFlags() {
+    return compilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code assemblerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getAssemblerFlags() {
+    return assemblerFlags;
+  }
+
+  /**
+   * @return The value of the {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code runTestSeparately} attribute
+   */
+  @Override
+  public boolean getRunTestSeparately() {
+    return runTestSeparately;
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getResources() {
+    return resources;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code contacts} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getContacts() {
+    return contacts;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * @return The value of the {@code testRuleTimeoutMs} attribute
+   */
+  @Override
+  public Optional<Long> getTestRuleTimeoutMs() {
+    return Optional.ofNullable(testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link GoTestDescription.AbstractGoTestDescriptionArg#getLibrary() library} attribute.
+   * @param value The value for library
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withLibrary(BuildTarget value) {
+    @Nullable BuildTarget newValue = Objects.requireNonNull(value, "library");
+    if (this.library == newValue) return this;
+    return new GoTestDescriptionArg(
+        newValue,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link GoTestDescription.AbstractGoTestDescriptionArg#getLibrary() library} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for library
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withLibrary(Optional<? extends BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.library == value) return this;
+    return new GoTestDescriptionArg(
+        value,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link GoTestDescription.AbstractGoTestDescriptionArg#getPackageName() packageName} attribute.
+   * @param value The value for packageName
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withPackageName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "packageName");
+    if (Objects.equals(this.packageName, newValue)) return this;
+    return new GoTestDescriptionArg(
+        this.library,
+        newValue,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link GoTestDescription.AbstractGoTestDescriptionArg#getPackageName() packageName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for packageName
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withPackageName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.packageName, value)) return this;
+    return new GoTestDescriptionArg(
+        this.library,
+        value,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getCompilerFlags() compilerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withCompilerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        newValue,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getCompilerFlags() compilerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of compilerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withCompilerFlags(Iterable<String> elements) {
+    if (this.compilerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        newValue,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getAssemblerFlags() assemblerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withAssemblerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        newValue,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getAssemblerFlags() assemblerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of assemblerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withAssemblerFlags(Iterable<String> elements) {
+    if (this.assemblerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        newValue,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getLinkerFlags() linkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withLinkerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        newValue,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getLinkerFlags() linkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of linkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withLinkerFlags(Iterable<String> elements) {
+    if (this.linkerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        newValue,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link GoTestDescription.AbstractGoTestDescriptionArg#getRunTestSeparately() runTestSeparately} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for runTestSeparately
+   * @return A modified copy of the {@code this} object
+   */
+  public final GoTestDescriptionArg withRunTestSeparately(boolean value) {
+    if (this.runTestSeparately == value) return this;
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        value,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getResources() resources}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withResources(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getResources() resources}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of resources elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withResources(Iterable<? extends SourcePath> elements) {
+    if (this.resources == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link GoTestDescription.AbstractGoTestDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final GoTestDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        newValue,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        newValue,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        newValue,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        newValue,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getContacts() contacts}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withContacts(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getContacts() contacts}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of contacts elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withContacts(Iterable<String> elements) {
+    if (this.contacts == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.deps,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        newValue,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        newValue,
+        this.srcs,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withSrcs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        newValue,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GoTestDescription.AbstractGoTestDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withSrcs(Iterable<? extends SourcePath> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        newValue,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link GoTestDescription.AbstractGoTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} attribute.
+   * @param value The value for testRuleTimeoutMs
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withTestRuleTimeoutMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.testRuleTimeoutMs, newValue)) return this;
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link GoTestDescription.AbstractGoTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for testRuleTimeoutMs
+   * @return A modified copy of {@code this} object
+   */
+  public final GoTestDescriptionArg withTestRuleTimeoutMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.testRuleTimeoutMs, value)) return this;
+    return new GoTestDescriptionArg(
+        this.library,
+        this.packageName,
+        this.compilerFlags,
+        this.assemblerFlags,
+        this.linkerFlags,
+        this.runTestSeparately,
+        this.resources,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.srcs,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code GoTestDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof GoTestDescriptionArg
+        && equalTo((GoTestDescriptionArg) another);
+  }
+
+  private boolean equalTo(GoTestDescriptionArg another) {
+    return Objects.equals(library, another.library)
+        && Objects.equals(packageName, another.packageName)
+        && compilerFlags.equals(another.compilerFlags)
+        && assemblerFlags.equals(another.assemblerFlags)
+        && linkerFlags.equals(another.linkerFlags)
+        && runTestSeparately == another.runTestSeparately
+        && resources.equals(another.resources)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && contacts.equals(another.contacts)
+        && deps.equals(another.deps)
+        && srcs.equals(another.srcs)
+        && Objects.equals(testRuleTimeoutMs, another.testRuleTimeoutMs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code library}, {@code packageName}, {@code compilerFlags}, {@code assemblerFlags}, {@code linkerFlags}, {@code runTestSeparately}, {@code resources}, {@code name}, {@code licenses}, {@code labels}, {@code contacts}, {@code deps}, {@code srcs}, {@code testRuleTimeoutMs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(library);
+    h += (h << 5) + Objects.hashCode(packageName);
+    h += (h << 5) + compilerFlags.hashCode();
+    h += (h << 5) + assemblerFlags.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    h += (h << 5) + Booleans.hashCode(runTestSeparately);
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + contacts.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + Objects.hashCode(testRuleTimeoutMs);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GoTestDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GoTestDescriptionArg")
+        .omitNullValues()
+        .add("library", library)
+        .add("packageName", packageName)
+        .add("compilerFlags", compilerFlags)
+        .add("assemblerFlags", assemblerFlags)
+        .add("linkerFlags", linkerFlags)
+        .add("runTestSeparately", runTestSeparately)
+        .add("resources", resources)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("contacts", contacts)
+        .add("deps", deps)
+        .add("srcs", srcs)
+        .add("testRuleTimeoutMs", testRuleTimeoutMs)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link GoTestDescription.AbstractGoTestDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable GoTestDescriptionArg instance
+   */
+  static GoTestDescriptionArg copyOf(GoTestDescription.AbstractGoTestDescriptionArg instance) {
+    if (instance instanceof GoTestDescriptionArg) {
+      return (GoTestDescriptionArg) instance;
+    }
+    return GoTestDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link GoTestDescriptionArg GoTestDescriptionArg}.
+   * @return A new GoTestDescriptionArg builder
+   */
+  public static GoTestDescriptionArg.Builder builder() {
+    return new GoTestDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link GoTestDescriptionArg GoTestDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_RUN_TEST_SEPARATELY = 0x1L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable BuildTarget library;
+    private @Nullable String packageName;
+    private ImmutableList.Builder<String> compilerFlags = ImmutableList.builder();
+    private ImmutableList.Builder<String> assemblerFlags = ImmutableList.builder();
+    private ImmutableList.Builder<String> linkerFlags = ImmutableList.builder();
+    private boolean runTestSeparately;
+    private ImmutableSortedSet.Builder<SourcePath> resources = ImmutableSortedSet.naturalOrder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<String> contacts = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+    private @Nullable Long testRuleTimeoutMs;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasContacts} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasContacts instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTestTimeout} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTestTimeout instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasSrcs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasSrcs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code GoTestDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(GoTestDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractGoTestDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(GoTestDescription.AbstractGoTestDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasContacts) {
+        HasContacts instance = (HasContacts) object;
+        addAllContacts(instance.getContacts());
+      }
+      if (object instanceof HasTestTimeout) {
+        HasTestTimeout instance = (HasTestTimeout) object;
+        Optional<Long> testRuleTimeoutMsOptional = instance.getTestRuleTimeoutMs();
+        if (testRuleTimeoutMsOptional.isPresent()) {
+          setTestRuleTimeoutMs(testRuleTimeoutMsOptional);
+        }
+      }
+      if (object instanceof HasSrcs) {
+        HasSrcs instance = (HasSrcs) object;
+        addAllSrcs(instance.getSrcs());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof GoTestDescription.AbstractGoTestDescriptionArg) {
+        GoTestDescription.AbstractGoTestDescriptionArg instance = (GoTestDescription.AbstractGoTestDescriptionArg) object;
+        Optional<BuildTarget> libraryOptional = instance.getLibrary();
+        if (libraryOptional.isPresent()) {
+          setLibrary(libraryOptional);
+        }
+        addAllCompilerFlags(instance.getCompilerFlags());
+        addAllAssemblerFlags(instance.getAssemblerFlags());
+        addAllResources(instance.getResources());
+        addAllLinkerFlags(instance.getLinkerFlags());
+        Optional<String> packageNameOptional = instance.getPackageName();
+        if (packageNameOptional.isPresent()) {
+          setPackageName(packageNameOptional);
+        }
+        setRunTestSeparately(instance.getRunTestSeparately());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link GoTestDescription.AbstractGoTestDescriptionArg#getLibrary() library} to library.
+     * @param library The value for library
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLibrary(BuildTarget library) {
+      this.library = Objects.requireNonNull(library, "library");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GoTestDescription.AbstractGoTestDescriptionArg#getLibrary() library} to library.
+     * @param library The value for library
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLibrary(Optional<? extends BuildTarget> library) {
+      this.library = library.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GoTestDescription.AbstractGoTestDescriptionArg#getPackageName() packageName} to packageName.
+     * @param packageName The value for packageName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackageName(String packageName) {
+      this.packageName = Objects.requireNonNull(packageName, "packageName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GoTestDescription.AbstractGoTestDescriptionArg#getPackageName() packageName} to packageName.
+     * @param packageName The value for packageName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackageName(Optional<String> packageName) {
+      this.packageName = packageName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoTestDescription.AbstractGoTestDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param element A compilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(String element) {
+      this.compilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An array of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(String... elements) {
+      this.compilerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoTestDescription.AbstractGoTestDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilerFlags(Iterable<String> elements) {
+      this.compilerFlags = ImmutableList.builder();
+      return addAllCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCompilerFlags(Iterable<String> elements) {
+      this.compilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoTestDescription.AbstractGoTestDescriptionArg#getAssemblerFlags() assemblerFlags} list.
+     * @param element A assemblerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAssemblerFlags(String element) {
+      this.assemblerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getAssemblerFlags() assemblerFlags} list.
+     * @param elements An array of assemblerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAssemblerFlags(String... elements) {
+      this.assemblerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoTestDescription.AbstractGoTestDescriptionArg#getAssemblerFlags() assemblerFlags} list.
+     * @param elements An iterable of assemblerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAssemblerFlags(Iterable<String> elements) {
+      this.assemblerFlags = ImmutableList.builder();
+      return addAllAssemblerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getAssemblerFlags() assemblerFlags} list.
+     * @param elements An iterable of assemblerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllAssemblerFlags(Iterable<String> elements) {
+      this.assemblerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoTestDescription.AbstractGoTestDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoTestDescription.AbstractGoTestDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link GoTestDescription.AbstractGoTestDescriptionArg#getRunTestSeparately() runTestSeparately} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link GoTestDescription.AbstractGoTestDescriptionArg#getRunTestSeparately() runTestSeparately}.</em>
+     * @param runTestSeparately The value for runTestSeparately 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRunTestSeparately(boolean runTestSeparately) {
+      this.runTestSeparately = runTestSeparately;
+      optBits |= OPT_BIT_RUN_TEST_SEPARATELY;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link GoTestDescription.AbstractGoTestDescriptionArg#getResources() resources} sortedSet.
+     * @param element A resources element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addResources(SourcePath element) {
+      this.resources.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An array of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addResources(SourcePath... elements) {
+      this.resources.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoTestDescription.AbstractGoTestDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An iterable of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResources(Iterable<? extends SourcePath> elements) {
+      this.resources = ImmutableSortedSet.naturalOrder();
+      return addAllResources(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An iterable of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllResources(Iterable<? extends SourcePath> elements) {
+      this.resources.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link GoTestDescription.AbstractGoTestDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link GoTestDescription.AbstractGoTestDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoTestDescription.AbstractGoTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoTestDescription.AbstractGoTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoTestDescription.AbstractGoTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoTestDescription.AbstractGoTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param element A contacts element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addContacts(String element) {
+      this.contacts.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An array of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addContacts(String... elements) {
+      this.contacts.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoTestDescription.AbstractGoTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setContacts(Iterable<String> elements) {
+      this.contacts = ImmutableSortedSet.naturalOrder();
+      return addAllContacts(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllContacts(Iterable<String> elements) {
+      this.contacts.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoTestDescription.AbstractGoTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoTestDescription.AbstractGoTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GoTestDescription.AbstractGoTestDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GoTestDescription.AbstractGoTestDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link GoTestDescription.AbstractGoTestDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GoTestDescription.AbstractGoTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} to testRuleTimeoutMs.
+     * @param testRuleTimeoutMs The value for testRuleTimeoutMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestRuleTimeoutMs(long testRuleTimeoutMs) {
+      this.testRuleTimeoutMs = testRuleTimeoutMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GoTestDescription.AbstractGoTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} to testRuleTimeoutMs.
+     * @param testRuleTimeoutMs The value for testRuleTimeoutMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestRuleTimeoutMs(Optional<Long> testRuleTimeoutMs) {
+      this.testRuleTimeoutMs = testRuleTimeoutMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link GoTestDescriptionArg GoTestDescriptionArg}.
+     * @return An immutable instance of GoTestDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public GoTestDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new GoTestDescriptionArg(this);
+    }
+
+    private boolean runTestSeparatelyIsSet() {
+      return (optBits & OPT_BIT_RUN_TEST_SEPARATELY) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build GoTestDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
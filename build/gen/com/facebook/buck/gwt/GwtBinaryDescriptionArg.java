@@ -0,0 +1,1446 @@
+package com.facebook.buck.gwt;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code GwtBinaryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "GwtBinaryDescription.AbstractGwtBinaryDescriptionArg"})
+@Immutable
+public final class GwtBinaryDescriptionArg
+    implements GwtBinaryDescription.AbstractGwtBinaryDescriptionArg {
+  private final ImmutableSortedSet<String> modules;
+  private final ImmutableSortedSet<BuildTarget> moduleDeps;
+  private final ImmutableList<String> vmArgs;
+  private final @Nullable GwtBinary.Style style;
+  private final @Nullable Boolean draftCompile;
+  private final @Nullable Integer optimize;
+  private final @Nullable Integer localWorkers;
+  private final @Nullable Boolean strict;
+  private final ImmutableList<String> experimentalArgs;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private GwtBinaryDescriptionArg(
+      ImmutableSortedSet<String> modules,
+      ImmutableSortedSet<BuildTarget> moduleDeps,
+      ImmutableList<String> vmArgs,
+      @Nullable GwtBinary.Style style,
+      @Nullable Boolean draftCompile,
+      @Nullable Integer optimize,
+      @Nullable Integer localWorkers,
+      @Nullable Boolean strict,
+      ImmutableList<String> experimentalArgs,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.modules = modules;
+    this.moduleDeps = moduleDeps;
+    this.vmArgs = vmArgs;
+    this.style = style;
+    this.draftCompile = draftCompile;
+    this.optimize = optimize;
+    this.localWorkers = localWorkers;
+    this.strict = strict;
+    this.experimentalArgs = experimentalArgs;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+  }
+
+  /**
+   * @return The value of the {@code modules} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getModules() {
+    return modules;
+  }
+
+  /**
+   * @return The value of the {@code moduleDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getModuleDeps() {
+    return moduleDeps;
+  }
+
+  /**
+   *In practice, these may be values such as {@code -Xmx512m}. 
+   */
+  @Override
+  public ImmutableList<String> getVmArgs() {
+    return vmArgs;
+  }
+
+  /**
+   *This will be passed to the GWT Compiler's {@code -style} flag. 
+   */
+  @Override
+  public Optional<GwtBinary.Style> getStyle() {
+    return Optional.ofNullable(style);
+  }
+
+  /**
+   *If {@code true}, the GWT Compiler's {@code -draftCompile} flag will be set. 
+   */
+  @Override
+  public Optional<Boolean> getDraftCompile() {
+    return Optional.ofNullable(draftCompile);
+  }
+
+  /**
+   *This will be passed to the GWT Compiler's {@code -optimize} flag. 
+   */
+  @Override
+  public Optional<Integer> getOptimize() {
+    return Optional.ofNullable(optimize);
+  }
+
+  /**
+   *This will be passed to the GWT Compiler's {@code -localWorkers} flag. 
+   */
+  @Override
+  public Optional<Integer> getLocalWorkers() {
+    return Optional.ofNullable(localWorkers);
+  }
+
+  /**
+   *If {@code true}, the GWT Compiler's {@code -strict} flag will be set. 
+   */
+  @Override
+  public Optional<Boolean> getStrict() {
+    return Optional.ofNullable(strict);
+  }
+
+  /**
+   * In practice, these may be values such as {@code -XenableClosureCompiler}, {@code
+   * -XdisableClassMetadata}, {@code -XdisableCastChecking}, or {@code -XfragmentMerge}.
+   */
+  @Override
+  public ImmutableList<String> getExperimentalArgs() {
+    return experimentalArgs;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getModules() modules}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withModules(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new GwtBinaryDescriptionArg(
+        newValue,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getModules() modules}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of modules elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withModules(Iterable<String> elements) {
+    if (this.modules == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new GwtBinaryDescriptionArg(
+        newValue,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getModuleDeps() moduleDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withModuleDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        newValue,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getModuleDeps() moduleDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of moduleDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withModuleDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.moduleDeps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        newValue,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getVmArgs() vmArgs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withVmArgs(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        newValue,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getVmArgs() vmArgs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of vmArgs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withVmArgs(Iterable<String> elements) {
+    if (this.vmArgs == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        newValue,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getStyle() style} attribute.
+   * @param value The value for style
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withStyle(GwtBinary.Style value) {
+    @Nullable GwtBinary.Style newValue = Objects.requireNonNull(value, "style");
+    if (this.style == newValue) return this;
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        newValue,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getStyle() style} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for style
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withStyle(Optional<? extends GwtBinary.Style> optional) {
+    @Nullable GwtBinary.Style value = optional.orElse(null);
+    if (Objects.equals(this.style, value)) return this;
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        value,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getDraftCompile() draftCompile} attribute.
+   * @param value The value for draftCompile
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withDraftCompile(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.draftCompile, newValue)) return this;
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        newValue,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getDraftCompile() draftCompile} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for draftCompile
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withDraftCompile(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.draftCompile, value)) return this;
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        value,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getOptimize() optimize} attribute.
+   * @param value The value for optimize
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withOptimize(int value) {
+    @Nullable Integer newValue = value;
+    if (Objects.equals(this.optimize, newValue)) return this;
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        newValue,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getOptimize() optimize} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for optimize
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withOptimize(Optional<Integer> optional) {
+    @Nullable Integer value = optional.orElse(null);
+    if (Objects.equals(this.optimize, value)) return this;
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        value,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getLocalWorkers() localWorkers} attribute.
+   * @param value The value for localWorkers
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withLocalWorkers(int value) {
+    @Nullable Integer newValue = value;
+    if (Objects.equals(this.localWorkers, newValue)) return this;
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        newValue,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getLocalWorkers() localWorkers} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for localWorkers
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withLocalWorkers(Optional<Integer> optional) {
+    @Nullable Integer value = optional.orElse(null);
+    if (Objects.equals(this.localWorkers, value)) return this;
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        value,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getStrict() strict} attribute.
+   * @param value The value for strict
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withStrict(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.strict, newValue)) return this;
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        newValue,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getStrict() strict} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for strict
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withStrict(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.strict, value)) return this;
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        value,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getExperimentalArgs() experimentalArgs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withExperimentalArgs(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getExperimentalArgs() experimentalArgs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of experimentalArgs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withExperimentalArgs(Iterable<String> elements) {
+    if (this.experimentalArgs == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GwtBinaryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new GwtBinaryDescriptionArg(
+        this.modules,
+        this.moduleDeps,
+        this.vmArgs,
+        this.style,
+        this.draftCompile,
+        this.optimize,
+        this.localWorkers,
+        this.strict,
+        this.experimentalArgs,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code GwtBinaryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof GwtBinaryDescriptionArg
+        && equalTo((GwtBinaryDescriptionArg) another);
+  }
+
+  private boolean equalTo(GwtBinaryDescriptionArg another) {
+    return modules.equals(another.modules)
+        && moduleDeps.equals(another.moduleDeps)
+        && vmArgs.equals(another.vmArgs)
+        && Objects.equals(style, another.style)
+        && Objects.equals(draftCompile, another.draftCompile)
+        && Objects.equals(optimize, another.optimize)
+        && Objects.equals(localWorkers, another.localWorkers)
+        && Objects.equals(strict, another.strict)
+        && experimentalArgs.equals(another.experimentalArgs)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code modules}, {@code moduleDeps}, {@code vmArgs}, {@code style}, {@code draftCompile}, {@code optimize}, {@code localWorkers}, {@code strict}, {@code experimentalArgs}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + modules.hashCode();
+    h += (h << 5) + moduleDeps.hashCode();
+    h += (h << 5) + vmArgs.hashCode();
+    h += (h << 5) + Objects.hashCode(style);
+    h += (h << 5) + Objects.hashCode(draftCompile);
+    h += (h << 5) + Objects.hashCode(optimize);
+    h += (h << 5) + Objects.hashCode(localWorkers);
+    h += (h << 5) + Objects.hashCode(strict);
+    h += (h << 5) + experimentalArgs.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GwtBinaryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GwtBinaryDescriptionArg")
+        .omitNullValues()
+        .add("modules", modules)
+        .add("moduleDeps", moduleDeps)
+        .add("vmArgs", vmArgs)
+        .add("style", style)
+        .add("draftCompile", draftCompile)
+        .add("optimize", optimize)
+        .add("localWorkers", localWorkers)
+        .add("strict", strict)
+        .add("experimentalArgs", experimentalArgs)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable GwtBinaryDescriptionArg instance
+   */
+  static GwtBinaryDescriptionArg copyOf(GwtBinaryDescription.AbstractGwtBinaryDescriptionArg instance) {
+    if (instance instanceof GwtBinaryDescriptionArg) {
+      return (GwtBinaryDescriptionArg) instance;
+    }
+    return GwtBinaryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link GwtBinaryDescriptionArg GwtBinaryDescriptionArg}.
+   * @return A new GwtBinaryDescriptionArg builder
+   */
+  public static GwtBinaryDescriptionArg.Builder builder() {
+    return new GwtBinaryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link GwtBinaryDescriptionArg GwtBinaryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableSortedSet.Builder<String> modules = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> moduleDeps = ImmutableSortedSet.naturalOrder();
+    private ImmutableList.Builder<String> vmArgs = ImmutableList.builder();
+    private @Nullable GwtBinary.Style style;
+    private @Nullable Boolean draftCompile;
+    private @Nullable Integer optimize;
+    private @Nullable Integer localWorkers;
+    private @Nullable Boolean strict;
+    private ImmutableList.Builder<String> experimentalArgs = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code GwtBinaryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(GwtBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractGwtBinaryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(GwtBinaryDescription.AbstractGwtBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof GwtBinaryDescription.AbstractGwtBinaryDescriptionArg) {
+        GwtBinaryDescription.AbstractGwtBinaryDescriptionArg instance = (GwtBinaryDescription.AbstractGwtBinaryDescriptionArg) object;
+        Optional<Integer> optimizeOptional = instance.getOptimize();
+        if (optimizeOptional.isPresent()) {
+          setOptimize(optimizeOptional);
+        }
+        Optional<Integer> localWorkersOptional = instance.getLocalWorkers();
+        if (localWorkersOptional.isPresent()) {
+          setLocalWorkers(localWorkersOptional);
+        }
+        Optional<GwtBinary.Style> styleOptional = instance.getStyle();
+        if (styleOptional.isPresent()) {
+          setStyle(styleOptional);
+        }
+        addAllModuleDeps(instance.getModuleDeps());
+        Optional<Boolean> strictOptional = instance.getStrict();
+        if (strictOptional.isPresent()) {
+          setStrict(strictOptional);
+        }
+        addAllExperimentalArgs(instance.getExperimentalArgs());
+        addAllModules(instance.getModules());
+        Optional<Boolean> draftCompileOptional = instance.getDraftCompile();
+        if (draftCompileOptional.isPresent()) {
+          setDraftCompile(draftCompileOptional);
+        }
+        addAllVmArgs(instance.getVmArgs());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Adds one element to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getModules() modules} sortedSet.
+     * @param element A modules element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addModules(String element) {
+      this.modules.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getModules() modules} sortedSet.
+     * @param elements An array of modules elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addModules(String... elements) {
+      this.modules.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getModules() modules} sortedSet.
+     * @param elements An iterable of modules elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setModules(Iterable<String> elements) {
+      this.modules = ImmutableSortedSet.naturalOrder();
+      return addAllModules(elements);
+    }
+
+    /**
+     * Adds elements to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getModules() modules} sortedSet.
+     * @param elements An iterable of modules elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllModules(Iterable<String> elements) {
+      this.modules.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getModuleDeps() moduleDeps} sortedSet.
+     * @param element A moduleDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addModuleDeps(BuildTarget element) {
+      this.moduleDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getModuleDeps() moduleDeps} sortedSet.
+     * @param elements An array of moduleDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addModuleDeps(BuildTarget... elements) {
+      this.moduleDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getModuleDeps() moduleDeps} sortedSet.
+     * @param elements An iterable of moduleDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setModuleDeps(Iterable<? extends BuildTarget> elements) {
+      this.moduleDeps = ImmutableSortedSet.naturalOrder();
+      return addAllModuleDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getModuleDeps() moduleDeps} sortedSet.
+     * @param elements An iterable of moduleDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllModuleDeps(Iterable<? extends BuildTarget> elements) {
+      this.moduleDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getVmArgs() vmArgs} list.
+     * @param element A vmArgs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addVmArgs(String element) {
+      this.vmArgs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getVmArgs() vmArgs} list.
+     * @param elements An array of vmArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addVmArgs(String... elements) {
+      this.vmArgs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getVmArgs() vmArgs} list.
+     * @param elements An iterable of vmArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVmArgs(Iterable<String> elements) {
+      this.vmArgs = ImmutableList.builder();
+      return addAllVmArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getVmArgs() vmArgs} list.
+     * @param elements An iterable of vmArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllVmArgs(Iterable<String> elements) {
+      this.vmArgs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getStyle() style} to style.
+     * @param style The value for style
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStyle(GwtBinary.Style style) {
+      this.style = Objects.requireNonNull(style, "style");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getStyle() style} to style.
+     * @param style The value for style
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStyle(Optional<? extends GwtBinary.Style> style) {
+      this.style = style.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getDraftCompile() draftCompile} to draftCompile.
+     * @param draftCompile The value for draftCompile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDraftCompile(boolean draftCompile) {
+      this.draftCompile = draftCompile;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getDraftCompile() draftCompile} to draftCompile.
+     * @param draftCompile The value for draftCompile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDraftCompile(Optional<Boolean> draftCompile) {
+      this.draftCompile = draftCompile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getOptimize() optimize} to optimize.
+     * @param optimize The value for optimize
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOptimize(int optimize) {
+      this.optimize = optimize;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getOptimize() optimize} to optimize.
+     * @param optimize The value for optimize
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOptimize(Optional<Integer> optimize) {
+      this.optimize = optimize.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getLocalWorkers() localWorkers} to localWorkers.
+     * @param localWorkers The value for localWorkers
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLocalWorkers(int localWorkers) {
+      this.localWorkers = localWorkers;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getLocalWorkers() localWorkers} to localWorkers.
+     * @param localWorkers The value for localWorkers
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLocalWorkers(Optional<Integer> localWorkers) {
+      this.localWorkers = localWorkers.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getStrict() strict} to strict.
+     * @param strict The value for strict
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStrict(boolean strict) {
+      this.strict = strict;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getStrict() strict} to strict.
+     * @param strict The value for strict
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStrict(Optional<Boolean> strict) {
+      this.strict = strict.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getExperimentalArgs() experimentalArgs} list.
+     * @param element A experimentalArgs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExperimentalArgs(String element) {
+      this.experimentalArgs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getExperimentalArgs() experimentalArgs} list.
+     * @param elements An array of experimentalArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExperimentalArgs(String... elements) {
+      this.experimentalArgs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getExperimentalArgs() experimentalArgs} list.
+     * @param elements An iterable of experimentalArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExperimentalArgs(Iterable<String> elements) {
+      this.experimentalArgs = ImmutableList.builder();
+      return addAllExperimentalArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getExperimentalArgs() experimentalArgs} list.
+     * @param elements An iterable of experimentalArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExperimentalArgs(Iterable<String> elements) {
+      this.experimentalArgs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link GwtBinaryDescription.AbstractGwtBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link GwtBinaryDescriptionArg GwtBinaryDescriptionArg}.
+     * @return An immutable instance of GwtBinaryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public GwtBinaryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new GwtBinaryDescriptionArg(
+          modules.build(),
+          moduleDeps.build(),
+          vmArgs.build(),
+          style,
+          draftCompile,
+          optimize,
+          localWorkers,
+          strict,
+          experimentalArgs.build(),
+          name,
+          licenses.build(),
+          labels.build(),
+          deps.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build GwtBinaryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.haskell;
+
+public final class AbstractHaskellPackage_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("getInfo()", "getPackageDb()", "getLibraries()", "getInterfaces()"));
+
+  @java.lang.Override
+  public java.lang.Class<?> getTargetClass() {
+    return com.facebook.buck.haskell.AbstractHaskellPackage.class;
+  }
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        return ((com.facebook.buck.haskell.AbstractHaskellPackage) instance).getInfo();
+      case 1:
+        return ((com.facebook.buck.haskell.AbstractHaskellPackage) instance).getPackageDb();
+      case 2:
+        return ((com.facebook.buck.haskell.AbstractHaskellPackage) instance).getLibraries();
+      case 3:
+        return ((com.facebook.buck.haskell.AbstractHaskellPackage) instance).getInterfaces();
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+}
@@ -0,0 +1,1539 @@
+package com.facebook.buck.haskell;
+
+import com.facebook.buck.cxx.toolchain.linker.Linker;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Flavor;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasDepsQuery;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.facebook.buck.rules.coercer.SourceList;
+import com.facebook.buck.rules.macros.StringWithMacros;
+import com.facebook.buck.rules.query.Query;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code HaskellBinaryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg"})
+@Immutable
+public final class HaskellBinaryDescriptionArg
+    implements HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg {
+  private final SourceList srcs;
+  private final ImmutableList<String> compilerFlags;
+  private final ImmutableList<StringWithMacros> linkerFlags;
+  private final PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+  private final boolean linkDepsQueryWhole;
+  private final @Nullable String main;
+  private final @Nullable Linker.LinkableDepType linkStyle;
+  private final @Nullable Flavor platform;
+  private final boolean enableProfiling;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable Query depsQuery;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private HaskellBinaryDescriptionArg(HaskellBinaryDescriptionArg.Builder builder) {
+    this.compilerFlags = builder.compilerFlags.build();
+    this.linkerFlags = builder.linkerFlags.build();
+    this.main = builder.main;
+    this.linkStyle = builder.linkStyle;
+    this.platform = builder.platform;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.depsQuery = builder.depsQuery;
+    this.deps = builder.deps.build();
+    if (builder.srcs != null) {
+      initShim.setSrcs(builder.srcs);
+    }
+    if (builder.platformDeps != null) {
+      initShim.setPlatformDeps(builder.platformDeps);
+    }
+    if (builder.linkDepsQueryWholeIsSet()) {
+      initShim.setLinkDepsQueryWhole(builder.linkDepsQueryWhole);
+    }
+    if (builder.enableProfilingIsSet()) {
+      initShim.setEnableProfiling(builder.enableProfiling);
+    }
+    this.srcs = initShim.getSrcs();
+    this.platformDeps = initShim.getPlatformDeps();
+    this.linkDepsQueryWhole = initShim.getLinkDepsQueryWhole();
+    this.enableProfiling = initShim.isEnableProfiling();
+    this.initShim = null;
+  }
+
+  private HaskellBinaryDescriptionArg(
+      SourceList srcs,
+      ImmutableList<String> compilerFlags,
+      ImmutableList<StringWithMacros> linkerFlags,
+      PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps,
+      boolean linkDepsQueryWhole,
+      @Nullable String main,
+      @Nullable Linker.LinkableDepType linkStyle,
+      @Nullable Flavor platform,
+      boolean enableProfiling,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      @Nullable Query depsQuery,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.srcs = srcs;
+    this.compilerFlags = compilerFlags;
+    this.linkerFlags = linkerFlags;
+    this.platformDeps = platformDeps;
+    this.linkDepsQueryWhole = linkDepsQueryWhole;
+    this.main = main;
+    this.linkStyle = linkStyle;
+    this.platform = platform;
+    this.enableProfiling = enableProfiling;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.depsQuery = depsQuery;
+    this.deps = deps;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private SourceList srcs;
+    private int srcsBuildStage;
+
+    SourceList getSrcs() {
+      if (srcsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (srcsBuildStage == STAGE_UNINITIALIZED) {
+        srcsBuildStage = STAGE_INITIALIZING;
+        this.srcs = Objects.requireNonNull(getSrcsInitialize(), "srcs");
+        srcsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.srcs;
+    }
+
+    void setSrcs(SourceList srcs) {
+      this.srcs = srcs;
+      srcsBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private int platformDepsBuildStage;
+
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+      if (platformDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformDepsBuildStage == STAGE_UNINITIALIZED) {
+        platformDepsBuildStage = STAGE_INITIALIZING;
+        this.platformDeps = Objects.requireNonNull(getPlatformDepsInitialize(), "platformDeps");
+        platformDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformDeps;
+    }
+
+    void setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = platformDeps;
+      platformDepsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean linkDepsQueryWhole;
+    private int linkDepsQueryWholeBuildStage;
+
+    boolean getLinkDepsQueryWhole() {
+      if (linkDepsQueryWholeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (linkDepsQueryWholeBuildStage == STAGE_UNINITIALIZED) {
+        linkDepsQueryWholeBuildStage = STAGE_INITIALIZING;
+        this.linkDepsQueryWhole = getLinkDepsQueryWholeInitialize();
+        linkDepsQueryWholeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.linkDepsQueryWhole;
+    }
+
+    void setLinkDepsQueryWhole(boolean linkDepsQueryWhole) {
+      this.linkDepsQueryWhole = linkDepsQueryWhole;
+      linkDepsQueryWholeBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean enableProfiling;
+    private int enableProfilingBuildStage;
+
+    boolean isEnableProfiling() {
+      if (enableProfilingBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (enableProfilingBuildStage == STAGE_UNINITIALIZED) {
+        enableProfilingBuildStage = STAGE_INITIALIZING;
+        this.enableProfiling = isEnableProfilingInitialize();
+        enableProfilingBuildStage = STAGE_INITIALIZED;
+      }
+      return this.enableProfiling;
+    }
+
+    void setEnableProfiling(boolean enableProfiling) {
+      this.enableProfiling = enableProfiling;
+      enableProfilingBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (srcsBuildStage == STAGE_INITIALIZING) attributes.add("srcs");
+      if (platformDepsBuildStage == STAGE_INITIALIZING) attributes.add("platformDeps");
+      if (linkDepsQueryWholeBuildStage == STAGE_INITIALIZING) attributes.add("linkDepsQueryWhole");
+      if (enableProfilingBuildStage == STAGE_INITIALIZING) attributes.add("enableProfiling");
+      return "Cannot build HaskellBinaryDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private SourceList getSrcsInitialize() {
+    return HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg.super.getSrcs();
+  }
+
+  private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDepsInitialize() {
+    return HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg.super.getPlatformDeps();
+  }
+
+  private boolean getLinkDepsQueryWholeInitialize() {
+    return HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg.super.getLinkDepsQueryWhole();
+  }
+
+  private boolean isEnableProfilingInitialize() {
+    return HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg.super.isEnableProfiling();
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public SourceList getSrcs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSrcs()
+        : this.srcs;
+  }
+
+  /**
+   * @return The value of the {@code compilerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCompilerFlags() {
+    return compilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code platformDeps} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformDeps()
+        : this.platformDeps;
+  }
+
+  /**
+   * @return The value of the {@code linkDepsQueryWhole} attribute
+   */
+  @Override
+  public boolean getLinkDepsQueryWhole() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLinkDepsQueryWhole()
+        : this.linkDepsQueryWhole;
+  }
+
+  /**
+   * @return The value of the {@code main} attribute
+   */
+  @Override
+  public Optional<String> getMain() {
+    return Optional.ofNullable(main);
+  }
+
+  /**
+   * @return The value of the {@code linkStyle} attribute
+   */
+  @Override
+  public Optional<Linker.LinkableDepType> getLinkStyle() {
+    return Optional.ofNullable(linkStyle);
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Optional<Flavor> getPlatform() {
+    return Optional.ofNullable(platform);
+  }
+
+  /**
+   * @return The value of the {@code enableProfiling} attribute
+   */
+  @Override
+  public boolean isEnableProfiling() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isEnableProfiling()
+        : this.enableProfiling;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code depsQuery} attribute
+   */
+  @Override
+  public Optional<Query> getDepsQuery() {
+    return Optional.ofNullable(depsQuery);
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getSrcs() srcs} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for srcs
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withSrcs(SourceList value) {
+    if (this.srcs == value) return this;
+    SourceList newValue = Objects.requireNonNull(value, "srcs");
+    return new HaskellBinaryDescriptionArg(
+        newValue,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getCompilerFlags() compilerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withCompilerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        newValue,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getCompilerFlags() compilerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of compilerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withCompilerFlags(Iterable<String> elements) {
+    if (this.compilerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        newValue,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLinkerFlags() linkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withLinkerFlags(StringWithMacros... elements) {
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        newValue,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLinkerFlags() linkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of linkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+    if (this.linkerFlags == elements) return this;
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        newValue,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getPlatformDeps() platformDeps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformDeps
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> value) {
+    if (this.platformDeps == value) return this;
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> newValue = Objects.requireNonNull(value, "platformDeps");
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        newValue,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLinkDepsQueryWhole() linkDepsQueryWhole} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for linkDepsQueryWhole
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withLinkDepsQueryWhole(boolean value) {
+    if (this.linkDepsQueryWhole == value) return this;
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        value,
+        this.main,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getMain() main} attribute.
+   * @param value The value for main
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withMain(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "main");
+    if (Objects.equals(this.main, newValue)) return this;
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        newValue,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getMain() main} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for main
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withMain(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.main, value)) return this;
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        value,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLinkStyle() linkStyle} attribute.
+   * @param value The value for linkStyle
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withLinkStyle(Linker.LinkableDepType value) {
+    @Nullable Linker.LinkableDepType newValue = Objects.requireNonNull(value, "linkStyle");
+    if (this.linkStyle == newValue) return this;
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        newValue,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLinkStyle() linkStyle} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for linkStyle
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withLinkStyle(Optional<? extends Linker.LinkableDepType> optional) {
+    @Nullable Linker.LinkableDepType value = optional.orElse(null);
+    if (Objects.equals(this.linkStyle, value)) return this;
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        value,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getPlatform() platform} attribute.
+   * @param value The value for platform
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withPlatform(Flavor value) {
+    @Nullable Flavor newValue = Objects.requireNonNull(value, "platform");
+    if (this.platform == newValue) return this;
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        newValue,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getPlatform() platform} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for platform
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withPlatform(Optional<? extends Flavor> optional) {
+    @Nullable Flavor value = optional.orElse(null);
+    if (this.platform == value) return this;
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        value,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#isEnableProfiling() enableProfiling} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for enableProfiling
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withEnableProfiling(boolean value) {
+    if (this.enableProfiling == value) return this;
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        this.platform,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        newValue,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        newValue,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        newValue,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        newValue,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getDepsQuery() depsQuery} attribute.
+   * @param value The value for depsQuery
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withDepsQuery(Query value) {
+    @Nullable Query newValue = Objects.requireNonNull(value, "depsQuery");
+    if (this.depsQuery == newValue) return this;
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getDepsQuery() depsQuery} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for depsQuery
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withDepsQuery(Optional<? extends Query> optional) {
+    @Nullable Query value = optional.orElse(null);
+    if (this.depsQuery == value) return this;
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        value,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellBinaryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new HaskellBinaryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.linkDepsQueryWhole,
+        this.main,
+        this.linkStyle,
+        this.platform,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HaskellBinaryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HaskellBinaryDescriptionArg
+        && equalTo((HaskellBinaryDescriptionArg) another);
+  }
+
+  private boolean equalTo(HaskellBinaryDescriptionArg another) {
+    return srcs.equals(another.srcs)
+        && compilerFlags.equals(another.compilerFlags)
+        && linkerFlags.equals(another.linkerFlags)
+        && platformDeps.equals(another.platformDeps)
+        && linkDepsQueryWhole == another.linkDepsQueryWhole
+        && Objects.equals(main, another.main)
+        && Objects.equals(linkStyle, another.linkStyle)
+        && Objects.equals(platform, another.platform)
+        && enableProfiling == another.enableProfiling
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(depsQuery, another.depsQuery)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code srcs}, {@code compilerFlags}, {@code linkerFlags}, {@code platformDeps}, {@code linkDepsQueryWhole}, {@code main}, {@code linkStyle}, {@code platform}, {@code enableProfiling}, {@code name}, {@code licenses}, {@code labels}, {@code depsQuery}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + compilerFlags.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    h += (h << 5) + platformDeps.hashCode();
+    h += (h << 5) + Booleans.hashCode(linkDepsQueryWhole);
+    h += (h << 5) + Objects.hashCode(main);
+    h += (h << 5) + Objects.hashCode(linkStyle);
+    h += (h << 5) + Objects.hashCode(platform);
+    h += (h << 5) + Booleans.hashCode(enableProfiling);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(depsQuery);
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HaskellBinaryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HaskellBinaryDescriptionArg")
+        .omitNullValues()
+        .add("srcs", srcs)
+        .add("compilerFlags", compilerFlags)
+        .add("linkerFlags", linkerFlags)
+        .add("platformDeps", platformDeps)
+        .add("linkDepsQueryWhole", linkDepsQueryWhole)
+        .add("main", main)
+        .add("linkStyle", linkStyle)
+        .add("platform", platform)
+        .add("enableProfiling", enableProfiling)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("depsQuery", depsQuery)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable HaskellBinaryDescriptionArg instance
+   */
+  static HaskellBinaryDescriptionArg copyOf(HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg instance) {
+    if (instance instanceof HaskellBinaryDescriptionArg) {
+      return (HaskellBinaryDescriptionArg) instance;
+    }
+    return HaskellBinaryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link HaskellBinaryDescriptionArg HaskellBinaryDescriptionArg}.
+   * @return A new HaskellBinaryDescriptionArg builder
+   */
+  public static HaskellBinaryDescriptionArg.Builder builder() {
+    return new HaskellBinaryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HaskellBinaryDescriptionArg HaskellBinaryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_LINK_DEPS_QUERY_WHOLE = 0x1L;
+    private static final long OPT_BIT_ENABLE_PROFILING = 0x2L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable SourceList srcs;
+    private ImmutableList.Builder<String> compilerFlags = ImmutableList.builder();
+    private ImmutableList.Builder<StringWithMacros> linkerFlags = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private boolean linkDepsQueryWhole;
+    private @Nullable String main;
+    private @Nullable Linker.LinkableDepType linkStyle;
+    private @Nullable Flavor platform;
+    private boolean enableProfiling;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable Query depsQuery;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HaskellBinaryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HaskellBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHaskellBinaryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDepsQuery} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDepsQuery instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg) {
+        HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg instance = (HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg) object;
+        Optional<Linker.LinkableDepType> linkStyleOptional = instance.getLinkStyle();
+        if (linkStyleOptional.isPresent()) {
+          setLinkStyle(linkStyleOptional);
+        }
+        setLinkDepsQueryWhole(instance.getLinkDepsQueryWhole());
+        addAllCompilerFlags(instance.getCompilerFlags());
+        setPlatformDeps(instance.getPlatformDeps());
+        Optional<String> mainOptional = instance.getMain();
+        if (mainOptional.isPresent()) {
+          setMain(mainOptional);
+        }
+        setSrcs(instance.getSrcs());
+        addAllLinkerFlags(instance.getLinkerFlags());
+        setEnableProfiling(instance.isEnableProfiling());
+        Optional<Flavor> platformOptional = instance.getPlatform();
+        if (platformOptional.isPresent()) {
+          setPlatform(platformOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDepsQuery) {
+        HasDepsQuery instance = (HasDepsQuery) object;
+        Optional<Query> depsQueryOptional = instance.getDepsQuery();
+        if (depsQueryOptional.isPresent()) {
+          setDepsQuery(depsQueryOptional);
+        }
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getSrcs() srcs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getSrcs() srcs}.</em>
+     * @param srcs The value for srcs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(SourceList srcs) {
+      this.srcs = Objects.requireNonNull(srcs, "srcs");
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param element A compilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(String element) {
+      this.compilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An array of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(String... elements) {
+      this.compilerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilerFlags(Iterable<String> elements) {
+      this.compilerFlags = ImmutableList.builder();
+      return addAllCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCompilerFlags(Iterable<String> elements) {
+      this.compilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(StringWithMacros element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(StringWithMacros... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getPlatformDeps() platformDeps} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getPlatformDeps() platformDeps}.</em>
+     * @param platformDeps The value for platformDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = Objects.requireNonNull(platformDeps, "platformDeps");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLinkDepsQueryWhole() linkDepsQueryWhole} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLinkDepsQueryWhole() linkDepsQueryWhole}.</em>
+     * @param linkDepsQueryWhole The value for linkDepsQueryWhole 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkDepsQueryWhole(boolean linkDepsQueryWhole) {
+      this.linkDepsQueryWhole = linkDepsQueryWhole;
+      optBits |= OPT_BIT_LINK_DEPS_QUERY_WHOLE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getMain() main} to main.
+     * @param main The value for main
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMain(String main) {
+      this.main = Objects.requireNonNull(main, "main");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getMain() main} to main.
+     * @param main The value for main
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMain(Optional<String> main) {
+      this.main = main.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLinkStyle() linkStyle} to linkStyle.
+     * @param linkStyle The value for linkStyle
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLinkStyle(Linker.LinkableDepType linkStyle) {
+      this.linkStyle = Objects.requireNonNull(linkStyle, "linkStyle");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLinkStyle() linkStyle} to linkStyle.
+     * @param linkStyle The value for linkStyle
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkStyle(Optional<? extends Linker.LinkableDepType> linkStyle) {
+      this.linkStyle = linkStyle.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getPlatform() platform} to platform.
+     * @param platform The value for platform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPlatform(Flavor platform) {
+      this.platform = Objects.requireNonNull(platform, "platform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getPlatform() platform} to platform.
+     * @param platform The value for platform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatform(Optional<? extends Flavor> platform) {
+      this.platform = platform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#isEnableProfiling() enableProfiling} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#isEnableProfiling() enableProfiling}.</em>
+     * @param enableProfiling The value for enableProfiling 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnableProfiling(boolean enableProfiling) {
+      this.enableProfiling = enableProfiling;
+      optBits |= OPT_BIT_ENABLE_PROFILING;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getDepsQuery() depsQuery} to depsQuery.
+     * @param depsQuery The value for depsQuery
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDepsQuery(Query depsQuery) {
+      this.depsQuery = Objects.requireNonNull(depsQuery, "depsQuery");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getDepsQuery() depsQuery} to depsQuery.
+     * @param depsQuery The value for depsQuery
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDepsQuery(Optional<? extends Query> depsQuery) {
+      this.depsQuery = depsQuery.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellBinaryDescription.AbstractHaskellBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HaskellBinaryDescriptionArg HaskellBinaryDescriptionArg}.
+     * @return An immutable instance of HaskellBinaryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HaskellBinaryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new HaskellBinaryDescriptionArg(this);
+    }
+
+    private boolean linkDepsQueryWholeIsSet() {
+      return (optBits & OPT_BIT_LINK_DEPS_QUERY_WHOLE) != 0;
+    }
+
+    private boolean enableProfilingIsSet() {
+      return (optBits & OPT_BIT_ENABLE_PROFILING) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build HaskellBinaryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
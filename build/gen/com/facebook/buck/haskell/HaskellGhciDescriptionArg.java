@@ -0,0 +1,1428 @@
+package com.facebook.buck.haskell;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Flavor;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasDepsQuery;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.facebook.buck.rules.coercer.SourceList;
+import com.facebook.buck.rules.macros.StringWithMacros;
+import com.facebook.buck.rules.query.Query;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code HaskellGhciDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "HaskellGhciDescription.AbstractHaskellGhciDescriptionArg"})
+@Immutable
+public final class HaskellGhciDescriptionArg
+    implements HaskellGhciDescription.AbstractHaskellGhciDescriptionArg {
+  private final SourceList srcs;
+  private final ImmutableList<String> compilerFlags;
+  private final ImmutableList<StringWithMacros> linkerFlags;
+  private final PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+  private final boolean enableProfiling;
+  private final @Nullable BuildTarget ghciBinDep;
+  private final @Nullable SourcePath ghciInit;
+  private final @Nullable Flavor platform;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable Query depsQuery;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private HaskellGhciDescriptionArg(HaskellGhciDescriptionArg.Builder builder) {
+    this.compilerFlags = builder.compilerFlags.build();
+    this.linkerFlags = builder.linkerFlags.build();
+    this.ghciBinDep = builder.ghciBinDep;
+    this.ghciInit = builder.ghciInit;
+    this.platform = builder.platform;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.depsQuery = builder.depsQuery;
+    this.deps = builder.deps.build();
+    if (builder.srcs != null) {
+      initShim.setSrcs(builder.srcs);
+    }
+    if (builder.platformDeps != null) {
+      initShim.setPlatformDeps(builder.platformDeps);
+    }
+    if (builder.enableProfilingIsSet()) {
+      initShim.setEnableProfiling(builder.enableProfiling);
+    }
+    this.srcs = initShim.getSrcs();
+    this.platformDeps = initShim.getPlatformDeps();
+    this.enableProfiling = initShim.isEnableProfiling();
+    this.initShim = null;
+  }
+
+  private HaskellGhciDescriptionArg(
+      SourceList srcs,
+      ImmutableList<String> compilerFlags,
+      ImmutableList<StringWithMacros> linkerFlags,
+      PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps,
+      boolean enableProfiling,
+      @Nullable BuildTarget ghciBinDep,
+      @Nullable SourcePath ghciInit,
+      @Nullable Flavor platform,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      @Nullable Query depsQuery,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.srcs = srcs;
+    this.compilerFlags = compilerFlags;
+    this.linkerFlags = linkerFlags;
+    this.platformDeps = platformDeps;
+    this.enableProfiling = enableProfiling;
+    this.ghciBinDep = ghciBinDep;
+    this.ghciInit = ghciInit;
+    this.platform = platform;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.depsQuery = depsQuery;
+    this.deps = deps;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private SourceList srcs;
+    private int srcsBuildStage;
+
+    SourceList getSrcs() {
+      if (srcsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (srcsBuildStage == STAGE_UNINITIALIZED) {
+        srcsBuildStage = STAGE_INITIALIZING;
+        this.srcs = Objects.requireNonNull(getSrcsInitialize(), "srcs");
+        srcsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.srcs;
+    }
+
+    void setSrcs(SourceList srcs) {
+      this.srcs = srcs;
+      srcsBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private int platformDepsBuildStage;
+
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+      if (platformDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformDepsBuildStage == STAGE_UNINITIALIZED) {
+        platformDepsBuildStage = STAGE_INITIALIZING;
+        this.platformDeps = Objects.requireNonNull(getPlatformDepsInitialize(), "platformDeps");
+        platformDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformDeps;
+    }
+
+    void setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = platformDeps;
+      platformDepsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean enableProfiling;
+    private int enableProfilingBuildStage;
+
+    boolean isEnableProfiling() {
+      if (enableProfilingBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (enableProfilingBuildStage == STAGE_UNINITIALIZED) {
+        enableProfilingBuildStage = STAGE_INITIALIZING;
+        this.enableProfiling = isEnableProfilingInitialize();
+        enableProfilingBuildStage = STAGE_INITIALIZED;
+      }
+      return this.enableProfiling;
+    }
+
+    void setEnableProfiling(boolean enableProfiling) {
+      this.enableProfiling = enableProfiling;
+      enableProfilingBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (srcsBuildStage == STAGE_INITIALIZING) attributes.add("srcs");
+      if (platformDepsBuildStage == STAGE_INITIALIZING) attributes.add("platformDeps");
+      if (enableProfilingBuildStage == STAGE_INITIALIZING) attributes.add("enableProfiling");
+      return "Cannot build HaskellGhciDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private SourceList getSrcsInitialize() {
+    return HaskellGhciDescription.AbstractHaskellGhciDescriptionArg.super.getSrcs();
+  }
+
+  private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDepsInitialize() {
+    return HaskellGhciDescription.AbstractHaskellGhciDescriptionArg.super.getPlatformDeps();
+  }
+
+  private boolean isEnableProfilingInitialize() {
+    return HaskellGhciDescription.AbstractHaskellGhciDescriptionArg.super.isEnableProfiling();
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public SourceList getSrcs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSrcs()
+        : this.srcs;
+  }
+
+  /**
+   * @return The value of the {@code compilerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCompilerFlags() {
+    return compilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code platformDeps} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformDeps()
+        : this.platformDeps;
+  }
+
+  /**
+   * @return The value of the {@code enableProfiling} attribute
+   */
+  @Override
+  public boolean isEnableProfiling() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isEnableProfiling()
+        : this.enableProfiling;
+  }
+
+  /**
+   * @return The value of the {@code ghciBinDep} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getGhciBinDep() {
+    return Optional.ofNullable(ghciBinDep);
+  }
+
+  /**
+   * @return The value of the {@code ghciInit} attribute
+   */
+  @Override
+  public Optional<SourcePath> getGhciInit() {
+    return Optional.ofNullable(ghciInit);
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Optional<Flavor> getPlatform() {
+    return Optional.ofNullable(platform);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code depsQuery} attribute
+   */
+  @Override
+  public Optional<Query> getDepsQuery() {
+    return Optional.ofNullable(depsQuery);
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getSrcs() srcs} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for srcs
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withSrcs(SourceList value) {
+    if (this.srcs == value) return this;
+    SourceList newValue = Objects.requireNonNull(value, "srcs");
+    return new HaskellGhciDescriptionArg(
+        newValue,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        this.ghciInit,
+        this.platform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getCompilerFlags() compilerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withCompilerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        newValue,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        this.ghciInit,
+        this.platform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getCompilerFlags() compilerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of compilerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withCompilerFlags(Iterable<String> elements) {
+    if (this.compilerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        newValue,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        this.ghciInit,
+        this.platform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLinkerFlags() linkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withLinkerFlags(StringWithMacros... elements) {
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        newValue,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        this.ghciInit,
+        this.platform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLinkerFlags() linkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of linkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+    if (this.linkerFlags == elements) return this;
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        newValue,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        this.ghciInit,
+        this.platform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getPlatformDeps() platformDeps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformDeps
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> value) {
+    if (this.platformDeps == value) return this;
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> newValue = Objects.requireNonNull(value, "platformDeps");
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        newValue,
+        this.enableProfiling,
+        this.ghciBinDep,
+        this.ghciInit,
+        this.platform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#isEnableProfiling() enableProfiling} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for enableProfiling
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withEnableProfiling(boolean value) {
+    if (this.enableProfiling == value) return this;
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        value,
+        this.ghciBinDep,
+        this.ghciInit,
+        this.platform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getGhciBinDep() ghciBinDep} attribute.
+   * @param value The value for ghciBinDep
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withGhciBinDep(BuildTarget value) {
+    @Nullable BuildTarget newValue = Objects.requireNonNull(value, "ghciBinDep");
+    if (this.ghciBinDep == newValue) return this;
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        newValue,
+        this.ghciInit,
+        this.platform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getGhciBinDep() ghciBinDep} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for ghciBinDep
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withGhciBinDep(Optional<? extends BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.ghciBinDep == value) return this;
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        value,
+        this.ghciInit,
+        this.platform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getGhciInit() ghciInit} attribute.
+   * @param value The value for ghciInit
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withGhciInit(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "ghciInit");
+    if (this.ghciInit == newValue) return this;
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        newValue,
+        this.platform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getGhciInit() ghciInit} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for ghciInit
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withGhciInit(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.ghciInit == value) return this;
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        value,
+        this.platform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getPlatform() platform} attribute.
+   * @param value The value for platform
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withPlatform(Flavor value) {
+    @Nullable Flavor newValue = Objects.requireNonNull(value, "platform");
+    if (this.platform == newValue) return this;
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        this.ghciInit,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getPlatform() platform} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for platform
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withPlatform(Optional<? extends Flavor> optional) {
+    @Nullable Flavor value = optional.orElse(null);
+    if (this.platform == value) return this;
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        this.ghciInit,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        this.ghciInit,
+        this.platform,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        this.ghciInit,
+        this.platform,
+        this.name,
+        newValue,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        this.ghciInit,
+        this.platform,
+        this.name,
+        newValue,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        this.ghciInit,
+        this.platform,
+        this.name,
+        this.licenses,
+        newValue,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        this.ghciInit,
+        this.platform,
+        this.name,
+        this.licenses,
+        newValue,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getDepsQuery() depsQuery} attribute.
+   * @param value The value for depsQuery
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withDepsQuery(Query value) {
+    @Nullable Query newValue = Objects.requireNonNull(value, "depsQuery");
+    if (this.depsQuery == newValue) return this;
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        this.ghciInit,
+        this.platform,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getDepsQuery() depsQuery} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for depsQuery
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withDepsQuery(Optional<? extends Query> optional) {
+    @Nullable Query value = optional.orElse(null);
+    if (this.depsQuery == value) return this;
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        this.ghciInit,
+        this.platform,
+        this.name,
+        this.licenses,
+        this.labels,
+        value,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        this.ghciInit,
+        this.platform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellGhciDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new HaskellGhciDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.platformDeps,
+        this.enableProfiling,
+        this.ghciBinDep,
+        this.ghciInit,
+        this.platform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HaskellGhciDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HaskellGhciDescriptionArg
+        && equalTo((HaskellGhciDescriptionArg) another);
+  }
+
+  private boolean equalTo(HaskellGhciDescriptionArg another) {
+    return srcs.equals(another.srcs)
+        && compilerFlags.equals(another.compilerFlags)
+        && linkerFlags.equals(another.linkerFlags)
+        && platformDeps.equals(another.platformDeps)
+        && enableProfiling == another.enableProfiling
+        && Objects.equals(ghciBinDep, another.ghciBinDep)
+        && Objects.equals(ghciInit, another.ghciInit)
+        && Objects.equals(platform, another.platform)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(depsQuery, another.depsQuery)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code srcs}, {@code compilerFlags}, {@code linkerFlags}, {@code platformDeps}, {@code enableProfiling}, {@code ghciBinDep}, {@code ghciInit}, {@code platform}, {@code name}, {@code licenses}, {@code labels}, {@code depsQuery}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + compilerFlags.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    h += (h << 5) + platformDeps.hashCode();
+    h += (h << 5) + Booleans.hashCode(enableProfiling);
+    h += (h << 5) + Objects.hashCode(ghciBinDep);
+    h += (h << 5) + Objects.hashCode(ghciInit);
+    h += (h << 5) + Objects.hashCode(platform);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(depsQuery);
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HaskellGhciDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HaskellGhciDescriptionArg")
+        .omitNullValues()
+        .add("srcs", srcs)
+        .add("compilerFlags", compilerFlags)
+        .add("linkerFlags", linkerFlags)
+        .add("platformDeps", platformDeps)
+        .add("enableProfiling", enableProfiling)
+        .add("ghciBinDep", ghciBinDep)
+        .add("ghciInit", ghciInit)
+        .add("platform", platform)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("depsQuery", depsQuery)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable HaskellGhciDescriptionArg instance
+   */
+  static HaskellGhciDescriptionArg copyOf(HaskellGhciDescription.AbstractHaskellGhciDescriptionArg instance) {
+    if (instance instanceof HaskellGhciDescriptionArg) {
+      return (HaskellGhciDescriptionArg) instance;
+    }
+    return HaskellGhciDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link HaskellGhciDescriptionArg HaskellGhciDescriptionArg}.
+   * @return A new HaskellGhciDescriptionArg builder
+   */
+  public static HaskellGhciDescriptionArg.Builder builder() {
+    return new HaskellGhciDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HaskellGhciDescriptionArg HaskellGhciDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_ENABLE_PROFILING = 0x1L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable SourceList srcs;
+    private ImmutableList.Builder<String> compilerFlags = ImmutableList.builder();
+    private ImmutableList.Builder<StringWithMacros> linkerFlags = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private boolean enableProfiling;
+    private @Nullable BuildTarget ghciBinDep;
+    private @Nullable SourcePath ghciInit;
+    private @Nullable Flavor platform;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable Query depsQuery;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HaskellGhciDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HaskellGhciDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHaskellGhciDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(HaskellGhciDescription.AbstractHaskellGhciDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDepsQuery} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDepsQuery instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HaskellGhciDescription.AbstractHaskellGhciDescriptionArg) {
+        HaskellGhciDescription.AbstractHaskellGhciDescriptionArg instance = (HaskellGhciDescription.AbstractHaskellGhciDescriptionArg) object;
+        addAllCompilerFlags(instance.getCompilerFlags());
+        setPlatformDeps(instance.getPlatformDeps());
+        Optional<BuildTarget> ghciBinDepOptional = instance.getGhciBinDep();
+        if (ghciBinDepOptional.isPresent()) {
+          setGhciBinDep(ghciBinDepOptional);
+        }
+        setSrcs(instance.getSrcs());
+        addAllLinkerFlags(instance.getLinkerFlags());
+        Optional<SourcePath> ghciInitOptional = instance.getGhciInit();
+        if (ghciInitOptional.isPresent()) {
+          setGhciInit(ghciInitOptional);
+        }
+        setEnableProfiling(instance.isEnableProfiling());
+        Optional<Flavor> platformOptional = instance.getPlatform();
+        if (platformOptional.isPresent()) {
+          setPlatform(platformOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDepsQuery) {
+        HasDepsQuery instance = (HasDepsQuery) object;
+        Optional<Query> depsQueryOptional = instance.getDepsQuery();
+        if (depsQueryOptional.isPresent()) {
+          setDepsQuery(depsQueryOptional);
+        }
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getSrcs() srcs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getSrcs() srcs}.</em>
+     * @param srcs The value for srcs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(SourceList srcs) {
+      this.srcs = Objects.requireNonNull(srcs, "srcs");
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param element A compilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(String element) {
+      this.compilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An array of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(String... elements) {
+      this.compilerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilerFlags(Iterable<String> elements) {
+      this.compilerFlags = ImmutableList.builder();
+      return addAllCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCompilerFlags(Iterable<String> elements) {
+      this.compilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(StringWithMacros element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(StringWithMacros... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getPlatformDeps() platformDeps} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getPlatformDeps() platformDeps}.</em>
+     * @param platformDeps The value for platformDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = Objects.requireNonNull(platformDeps, "platformDeps");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#isEnableProfiling() enableProfiling} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#isEnableProfiling() enableProfiling}.</em>
+     * @param enableProfiling The value for enableProfiling 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnableProfiling(boolean enableProfiling) {
+      this.enableProfiling = enableProfiling;
+      optBits |= OPT_BIT_ENABLE_PROFILING;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getGhciBinDep() ghciBinDep} to ghciBinDep.
+     * @param ghciBinDep The value for ghciBinDep
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setGhciBinDep(BuildTarget ghciBinDep) {
+      this.ghciBinDep = Objects.requireNonNull(ghciBinDep, "ghciBinDep");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getGhciBinDep() ghciBinDep} to ghciBinDep.
+     * @param ghciBinDep The value for ghciBinDep
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGhciBinDep(Optional<? extends BuildTarget> ghciBinDep) {
+      this.ghciBinDep = ghciBinDep.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getGhciInit() ghciInit} to ghciInit.
+     * @param ghciInit The value for ghciInit
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setGhciInit(SourcePath ghciInit) {
+      this.ghciInit = Objects.requireNonNull(ghciInit, "ghciInit");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getGhciInit() ghciInit} to ghciInit.
+     * @param ghciInit The value for ghciInit
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGhciInit(Optional<? extends SourcePath> ghciInit) {
+      this.ghciInit = ghciInit.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getPlatform() platform} to platform.
+     * @param platform The value for platform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPlatform(Flavor platform) {
+      this.platform = Objects.requireNonNull(platform, "platform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getPlatform() platform} to platform.
+     * @param platform The value for platform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatform(Optional<? extends Flavor> platform) {
+      this.platform = platform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getDepsQuery() depsQuery} to depsQuery.
+     * @param depsQuery The value for depsQuery
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDepsQuery(Query depsQuery) {
+      this.depsQuery = Objects.requireNonNull(depsQuery, "depsQuery");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getDepsQuery() depsQuery} to depsQuery.
+     * @param depsQuery The value for depsQuery
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDepsQuery(Optional<? extends Query> depsQuery) {
+      this.depsQuery = depsQuery.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellGhciDescription.AbstractHaskellGhciDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HaskellGhciDescriptionArg HaskellGhciDescriptionArg}.
+     * @return An immutable instance of HaskellGhciDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HaskellGhciDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new HaskellGhciDescriptionArg(this);
+    }
+
+    private boolean enableProfilingIsSet() {
+      return (optBits & OPT_BIT_ENABLE_PROFILING) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build HaskellGhciDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
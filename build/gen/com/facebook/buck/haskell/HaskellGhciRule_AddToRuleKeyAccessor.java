@@ -0,0 +1,59 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.haskell;
+
+public final class HaskellGhciRule_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("srcs", "compilerFlags", "ghciBinDep", "ghciInit", "omnibusSharedObject", "firstOrderHaskellPackages", "haskellPackages", "prebuiltHaskellPackages", "enableProfiling", "ghciScriptTemplate", "ghciBinutils", "ghciGhc", "ghciLib", "ghciCxx", "ghciCc", "ghciCpp"));
+
+  @java.lang.Override
+  public java.lang.Class<?> getTargetClass() {
+    return com.facebook.buck.haskell.HaskellGhciRule.class;
+  }
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        return ((com.facebook.buck.haskell.HaskellGhciRule) instance).srcs;
+      case 1:
+        return ((com.facebook.buck.haskell.HaskellGhciRule) instance).compilerFlags;
+      case 2:
+        return ((com.facebook.buck.haskell.HaskellGhciRule) instance).ghciBinDep;
+      case 3:
+        return ((com.facebook.buck.haskell.HaskellGhciRule) instance).ghciInit;
+      case 4:
+        return ((com.facebook.buck.haskell.HaskellGhciRule) instance).omnibusSharedObject;
+      case 5:
+        return ((com.facebook.buck.haskell.HaskellGhciRule) instance).firstOrderHaskellPackages;
+      case 6:
+        return ((com.facebook.buck.haskell.HaskellGhciRule) instance).haskellPackages;
+      case 7:
+        return ((com.facebook.buck.haskell.HaskellGhciRule) instance).prebuiltHaskellPackages;
+      case 8:
+        return ((com.facebook.buck.haskell.HaskellGhciRule) instance).enableProfiling;
+      case 9:
+        return ((com.facebook.buck.haskell.HaskellGhciRule) instance).ghciScriptTemplate;
+      case 10:
+        return ((com.facebook.buck.haskell.HaskellGhciRule) instance).ghciBinutils;
+      case 11:
+        return ((com.facebook.buck.haskell.HaskellGhciRule) instance).ghciGhc;
+      case 12:
+        return ((com.facebook.buck.haskell.HaskellGhciRule) instance).ghciLib;
+      case 13:
+        return ((com.facebook.buck.haskell.HaskellGhciRule) instance).ghciCxx;
+      case 14:
+        return ((com.facebook.buck.haskell.HaskellGhciRule) instance).ghciCc;
+      case 15:
+        return ((com.facebook.buck.haskell.HaskellGhciRule) instance).ghciCpp;
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+}
@@ -0,0 +1,735 @@
+package com.facebook.buck.haskell;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Flavor;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasDepsQuery;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.query.Query;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code HaskellHaddockDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg"})
+@Immutable
+public final class HaskellHaddockDescriptionArg
+    implements HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg {
+  private final @Nullable Flavor platform;
+  private final ImmutableList<String> haddockFlags;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable Query depsQuery;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private HaskellHaddockDescriptionArg(HaskellHaddockDescriptionArg.Builder builder) {
+    this.platform = builder.platform;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.depsQuery = builder.depsQuery;
+    this.deps = builder.deps.build();
+    this.haddockFlags = builder.haddockFlagsIsSet()
+        ? builder.haddockFlags.build()
+        : Objects.requireNonNull(HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg.super.getHaddockFlags(), "haddockFlags");
+  }
+
+  private HaskellHaddockDescriptionArg(
+      @Nullable Flavor platform,
+      ImmutableList<String> haddockFlags,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      @Nullable Query depsQuery,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.platform = platform;
+    this.haddockFlags = haddockFlags;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.depsQuery = depsQuery;
+    this.deps = deps;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Optional<Flavor> getPlatform() {
+    return Optional.ofNullable(platform);
+  }
+
+  /**
+   * @return The value of the {@code haddockFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getHaddockFlags() {
+    return haddockFlags;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code depsQuery} attribute
+   */
+  @Override
+  public Optional<Query> getDepsQuery() {
+    return Optional.ofNullable(depsQuery);
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getPlatform() platform} attribute.
+   * @param value The value for platform
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellHaddockDescriptionArg withPlatform(Flavor value) {
+    @Nullable Flavor newValue = Objects.requireNonNull(value, "platform");
+    if (this.platform == newValue) return this;
+    return new HaskellHaddockDescriptionArg(newValue, this.haddockFlags, this.name, this.licenses, this.labels, this.depsQuery, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getPlatform() platform} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for platform
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellHaddockDescriptionArg withPlatform(Optional<? extends Flavor> optional) {
+    @Nullable Flavor value = optional.orElse(null);
+    if (this.platform == value) return this;
+    return new HaskellHaddockDescriptionArg(value, this.haddockFlags, this.name, this.licenses, this.labels, this.depsQuery, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getHaddockFlags() haddockFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellHaddockDescriptionArg withHaddockFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellHaddockDescriptionArg(this.platform, newValue, this.name, this.licenses, this.labels, this.depsQuery, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getHaddockFlags() haddockFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of haddockFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellHaddockDescriptionArg withHaddockFlags(Iterable<String> elements) {
+    if (this.haddockFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellHaddockDescriptionArg(this.platform, newValue, this.name, this.licenses, this.labels, this.depsQuery, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellHaddockDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new HaskellHaddockDescriptionArg(
+        this.platform,
+        this.haddockFlags,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellHaddockDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new HaskellHaddockDescriptionArg(this.platform, this.haddockFlags, this.name, newValue, this.labels, this.depsQuery, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellHaddockDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new HaskellHaddockDescriptionArg(this.platform, this.haddockFlags, this.name, newValue, this.labels, this.depsQuery, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellHaddockDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new HaskellHaddockDescriptionArg(this.platform, this.haddockFlags, this.name, this.licenses, newValue, this.depsQuery, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellHaddockDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new HaskellHaddockDescriptionArg(this.platform, this.haddockFlags, this.name, this.licenses, newValue, this.depsQuery, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getDepsQuery() depsQuery} attribute.
+   * @param value The value for depsQuery
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellHaddockDescriptionArg withDepsQuery(Query value) {
+    @Nullable Query newValue = Objects.requireNonNull(value, "depsQuery");
+    if (this.depsQuery == newValue) return this;
+    return new HaskellHaddockDescriptionArg(this.platform, this.haddockFlags, this.name, this.licenses, this.labels, newValue, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getDepsQuery() depsQuery} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for depsQuery
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellHaddockDescriptionArg withDepsQuery(Optional<? extends Query> optional) {
+    @Nullable Query value = optional.orElse(null);
+    if (this.depsQuery == value) return this;
+    return new HaskellHaddockDescriptionArg(this.platform, this.haddockFlags, this.name, this.licenses, this.labels, value, this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellHaddockDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new HaskellHaddockDescriptionArg(
+        this.platform,
+        this.haddockFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellHaddockDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new HaskellHaddockDescriptionArg(
+        this.platform,
+        this.haddockFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HaskellHaddockDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HaskellHaddockDescriptionArg
+        && equalTo((HaskellHaddockDescriptionArg) another);
+  }
+
+  private boolean equalTo(HaskellHaddockDescriptionArg another) {
+    return Objects.equals(platform, another.platform)
+        && haddockFlags.equals(another.haddockFlags)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(depsQuery, another.depsQuery)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code platform}, {@code haddockFlags}, {@code name}, {@code licenses}, {@code labels}, {@code depsQuery}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(platform);
+    h += (h << 5) + haddockFlags.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(depsQuery);
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HaskellHaddockDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HaskellHaddockDescriptionArg")
+        .omitNullValues()
+        .add("platform", platform)
+        .add("haddockFlags", haddockFlags)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("depsQuery", depsQuery)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable HaskellHaddockDescriptionArg instance
+   */
+  static HaskellHaddockDescriptionArg copyOf(HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg instance) {
+    if (instance instanceof HaskellHaddockDescriptionArg) {
+      return (HaskellHaddockDescriptionArg) instance;
+    }
+    return HaskellHaddockDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link HaskellHaddockDescriptionArg HaskellHaddockDescriptionArg}.
+   * @return A new HaskellHaddockDescriptionArg builder
+   */
+  public static HaskellHaddockDescriptionArg.Builder builder() {
+    return new HaskellHaddockDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HaskellHaddockDescriptionArg HaskellHaddockDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_HADDOCK_FLAGS = 0x1L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable Flavor platform;
+    private ImmutableList.Builder<String> haddockFlags = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable Query depsQuery;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HaskellHaddockDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HaskellHaddockDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHaskellHaddockDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDepsQuery} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDepsQuery instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg) {
+        HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg instance = (HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg) object;
+        addAllHaddockFlags(instance.getHaddockFlags());
+        Optional<Flavor> platformOptional = instance.getPlatform();
+        if (platformOptional.isPresent()) {
+          setPlatform(platformOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDepsQuery) {
+        HasDepsQuery instance = (HasDepsQuery) object;
+        Optional<Query> depsQueryOptional = instance.getDepsQuery();
+        if (depsQueryOptional.isPresent()) {
+          setDepsQuery(depsQueryOptional);
+        }
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getPlatform() platform} to platform.
+     * @param platform The value for platform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPlatform(Flavor platform) {
+      this.platform = Objects.requireNonNull(platform, "platform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getPlatform() platform} to platform.
+     * @param platform The value for platform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatform(Optional<? extends Flavor> platform) {
+      this.platform = platform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getHaddockFlags() haddockFlags} list.
+     * @param element A haddockFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addHaddockFlags(String element) {
+      this.haddockFlags.add(element);
+      optBits |= OPT_BIT_HADDOCK_FLAGS;
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getHaddockFlags() haddockFlags} list.
+     * @param elements An array of haddockFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addHaddockFlags(String... elements) {
+      this.haddockFlags.add(elements);
+      optBits |= OPT_BIT_HADDOCK_FLAGS;
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getHaddockFlags() haddockFlags} list.
+     * @param elements An iterable of haddockFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHaddockFlags(Iterable<String> elements) {
+      this.haddockFlags = ImmutableList.builder();
+      return addAllHaddockFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getHaddockFlags() haddockFlags} list.
+     * @param elements An iterable of haddockFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllHaddockFlags(Iterable<String> elements) {
+      this.haddockFlags.addAll(elements);
+      optBits |= OPT_BIT_HADDOCK_FLAGS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getDepsQuery() depsQuery} to depsQuery.
+     * @param depsQuery The value for depsQuery
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDepsQuery(Query depsQuery) {
+      this.depsQuery = Objects.requireNonNull(depsQuery, "depsQuery");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getDepsQuery() depsQuery} to depsQuery.
+     * @param depsQuery The value for depsQuery
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDepsQuery(Optional<? extends Query> depsQuery) {
+      this.depsQuery = depsQuery.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellHaddockDescription.AbstractHaskellHaddockDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HaskellHaddockDescriptionArg HaskellHaddockDescriptionArg}.
+     * @return An immutable instance of HaskellHaddockDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HaskellHaddockDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new HaskellHaddockDescriptionArg(this);
+    }
+
+    private boolean haddockFlagsIsSet() {
+      return (optBits & OPT_BIT_HADDOCK_FLAGS) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build HaskellHaddockDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
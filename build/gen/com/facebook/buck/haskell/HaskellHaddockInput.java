@@ -0,0 +1,287 @@
+package com.facebook.buck.haskell;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Information that contributes to a haskell haddock job. Dependencies (e.g. `haskell_library`
+ * rules) export this object to their dependent's compilations.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractHaskellHaddockInput"})
+@Immutable
+public final class HaskellHaddockInput implements AbstractHaskellHaddockInput {
+  private final ImmutableSet<SourcePath> interfaces;
+  private final ImmutableSet<SourcePath> outputDirs;
+
+  private HaskellHaddockInput(
+      ImmutableSet<SourcePath> interfaces,
+      ImmutableSet<SourcePath> outputDirs) {
+    this.interfaces = interfaces;
+    this.outputDirs = outputDirs;
+  }
+
+  /**
+   *@return any haskell interfaces used 
+   */
+  @Override
+  public ImmutableSet<SourcePath> getInterfaces() {
+    return interfaces;
+  }
+
+  /**
+   *@return any output directories used 
+   */
+  @Override
+  public ImmutableSet<SourcePath> getOutputDirs() {
+    return outputDirs;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellHaddockInput#getInterfaces() interfaces}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellHaddockInput withInterfaces(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new HaskellHaddockInput(newValue, this.outputDirs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellHaddockInput#getInterfaces() interfaces}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of interfaces elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellHaddockInput withInterfaces(Iterable<? extends SourcePath> elements) {
+    if (this.interfaces == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new HaskellHaddockInput(newValue, this.outputDirs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellHaddockInput#getOutputDirs() outputDirs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellHaddockInput withOutputDirs(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new HaskellHaddockInput(this.interfaces, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellHaddockInput#getOutputDirs() outputDirs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of outputDirs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellHaddockInput withOutputDirs(Iterable<? extends SourcePath> elements) {
+    if (this.outputDirs == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new HaskellHaddockInput(this.interfaces, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HaskellHaddockInput} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HaskellHaddockInput
+        && equalTo((HaskellHaddockInput) another);
+  }
+
+  private boolean equalTo(HaskellHaddockInput another) {
+    return interfaces.equals(another.interfaces)
+        && outputDirs.equals(another.outputDirs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code interfaces}, {@code outputDirs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + interfaces.hashCode();
+    h += (h << 5) + outputDirs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HaskellHaddockInput} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HaskellHaddockInput")
+        .omitNullValues()
+        .add("interfaces", interfaces)
+        .add("outputDirs", outputDirs)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractHaskellHaddockInput} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable HaskellHaddockInput instance
+   */
+  static HaskellHaddockInput copyOf(AbstractHaskellHaddockInput instance) {
+    if (instance instanceof HaskellHaddockInput) {
+      return (HaskellHaddockInput) instance;
+    }
+    return HaskellHaddockInput.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link HaskellHaddockInput HaskellHaddockInput}.
+   * @return A new HaskellHaddockInput builder
+   */
+  public static HaskellHaddockInput.Builder builder() {
+    return new HaskellHaddockInput.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HaskellHaddockInput HaskellHaddockInput}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSet.Builder<SourcePath> interfaces = ImmutableSet.builder();
+    private ImmutableSet.Builder<SourcePath> outputDirs = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HaskellHaddockInput} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HaskellHaddockInput instance) {
+      return from((AbstractHaskellHaddockInput) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHaskellHaddockInput} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractHaskellHaddockInput instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllInterfaces(instance.getInterfaces());
+      addAllOutputDirs(instance.getOutputDirs());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractHaskellHaddockInput#getInterfaces() interfaces} set.
+     * @param element A interfaces element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addInterfaces(SourcePath element) {
+      this.interfaces.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellHaddockInput#getInterfaces() interfaces} set.
+     * @param elements An array of interfaces elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addInterfaces(SourcePath... elements) {
+      this.interfaces.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractHaskellHaddockInput#getInterfaces() interfaces} set.
+     * @param elements An iterable of interfaces elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInterfaces(Iterable<? extends SourcePath> elements) {
+      this.interfaces = ImmutableSet.builder();
+      return addAllInterfaces(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellHaddockInput#getInterfaces() interfaces} set.
+     * @param elements An iterable of interfaces elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllInterfaces(Iterable<? extends SourcePath> elements) {
+      this.interfaces.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractHaskellHaddockInput#getOutputDirs() outputDirs} set.
+     * @param element A outputDirs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addOutputDirs(SourcePath element) {
+      this.outputDirs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellHaddockInput#getOutputDirs() outputDirs} set.
+     * @param elements An array of outputDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addOutputDirs(SourcePath... elements) {
+      this.outputDirs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractHaskellHaddockInput#getOutputDirs() outputDirs} set.
+     * @param elements An iterable of outputDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOutputDirs(Iterable<? extends SourcePath> elements) {
+      this.outputDirs = ImmutableSet.builder();
+      return addAllOutputDirs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellHaddockInput#getOutputDirs() outputDirs} set.
+     * @param elements An iterable of outputDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllOutputDirs(Iterable<? extends SourcePath> elements) {
+      this.outputDirs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HaskellHaddockInput HaskellHaddockInput}.
+     * @return An immutable instance of HaskellHaddockInput
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HaskellHaddockInput build() {
+      return new HaskellHaddockInput(interfaces.build(), outputDirs.build());
+    }
+  }
+}
@@ -0,0 +1,89 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.haskell;
+
+public final class HaskellHaddockLibRule_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.lang.invoke.MethodHandle MEMBER_0 = getter("haddockTool");
+  private static final java.lang.invoke.MethodHandle MEMBER_1 = getter("haddockFlags");
+  private static final java.lang.invoke.MethodHandle MEMBER_4 = getter("ppFlags");
+  private static final java.lang.invoke.MethodHandle MEMBER_6 = getter("preprocessor");
+  private static final java.lang.invoke.MethodHandle MEMBER_7 = getter("interfaces");
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("haddockTool", "haddockFlags", "compilerFlags", "linkerFlags", "ppFlags", "srcs", "preprocessor", "interfaces", "packageInfo", "packages", "exposedPackages"));
+
+  @java.lang.Override
+  public java.lang.Class<?> getTargetClass() {
+    return com.facebook.buck.haskell.HaskellHaddockLibRule.class;
+  }
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        try {
+          return MEMBER_0.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 1:
+        try {
+          return MEMBER_1.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 2:
+        return ((com.facebook.buck.haskell.HaskellHaddockLibRule) instance).compilerFlags;
+      case 3:
+        return ((com.facebook.buck.haskell.HaskellHaddockLibRule) instance).linkerFlags;
+      case 4:
+        try {
+          return MEMBER_4.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 5:
+        return ((com.facebook.buck.haskell.HaskellHaddockLibRule) instance).srcs;
+      case 6:
+        try {
+          return MEMBER_6.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 7:
+        try {
+          return MEMBER_7.invoke(instance);
+        } catch (java.lang.Throwable t) {
+          throw new java.lang.IllegalStateException(t);
+        }
+      case 8:
+        return ((com.facebook.buck.haskell.HaskellHaddockLibRule) instance).packageInfo;
+      case 9:
+        return ((com.facebook.buck.haskell.HaskellHaddockLibRule) instance).packages;
+      case 10:
+        return ((com.facebook.buck.haskell.HaskellHaddockLibRule) instance).exposedPackages;
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+
+  private static java.lang.invoke.MethodHandle getter(java.lang.String name) {
+    try {
+      java.lang.reflect.Field field = com.facebook.buck.haskell.HaskellHaddockLibRule.class.getDeclaredField(name);
+      field.setAccessible(true);
+      return java.lang.invoke.MethodHandles.lookup()
+          .unreflectGetter(field)
+          .asType(
+              java.lang.invoke.MethodType.methodType(
+                  java.lang.Object.class, java.lang.Object.class));
+    } catch (java.lang.ReflectiveOperationException e) {
+      throw new java.lang.IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,1348 @@
+package com.facebook.buck.haskell;
+
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.facebook.buck.rules.coercer.SourceList;
+import com.facebook.buck.rules.macros.StringWithMacros;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code HaskellLibraryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg"})
+@Immutable
+public final class HaskellLibraryDescriptionArg
+    implements HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg {
+  private final SourceList srcs;
+  private final ImmutableList<StringWithMacros> linkerFlags;
+  private final ImmutableList<String> compilerFlags;
+  private final PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+  private final boolean linkWhole;
+  private final NativeLinkable.Linkage preferredLinkage;
+  private final boolean enableProfiling;
+  private final ImmutableList<String> haddockFlags;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private HaskellLibraryDescriptionArg(HaskellLibraryDescriptionArg.Builder builder) {
+    this.linkerFlags = builder.linkerFlags.build();
+    this.compilerFlags = builder.compilerFlags.build();
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    if (builder.srcs != null) {
+      initShim.setSrcs(builder.srcs);
+    }
+    if (builder.platformDeps != null) {
+      initShim.setPlatformDeps(builder.platformDeps);
+    }
+    if (builder.linkWholeIsSet()) {
+      initShim.setLinkWhole(builder.linkWhole);
+    }
+    if (builder.preferredLinkage != null) {
+      initShim.setPreferredLinkage(builder.preferredLinkage);
+    }
+    if (builder.enableProfilingIsSet()) {
+      initShim.setEnableProfiling(builder.enableProfiling);
+    }
+    if (builder.haddockFlagsIsSet()) {
+      initShim.setHaddockFlags(builder.haddockFlags.build());
+    }
+    this.srcs = initShim.getSrcs();
+    this.platformDeps = initShim.getPlatformDeps();
+    this.linkWhole = initShim.getLinkWhole();
+    this.preferredLinkage = initShim.getPreferredLinkage();
+    this.enableProfiling = initShim.isEnableProfiling();
+    this.haddockFlags = initShim.getHaddockFlags();
+    this.initShim = null;
+  }
+
+  private HaskellLibraryDescriptionArg(
+      SourceList srcs,
+      ImmutableList<StringWithMacros> linkerFlags,
+      ImmutableList<String> compilerFlags,
+      PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps,
+      boolean linkWhole,
+      NativeLinkable.Linkage preferredLinkage,
+      boolean enableProfiling,
+      ImmutableList<String> haddockFlags,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.srcs = srcs;
+    this.linkerFlags = linkerFlags;
+    this.compilerFlags = compilerFlags;
+    this.platformDeps = platformDeps;
+    this.linkWhole = linkWhole;
+    this.preferredLinkage = preferredLinkage;
+    this.enableProfiling = enableProfiling;
+    this.haddockFlags = haddockFlags;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private SourceList srcs;
+    private int srcsBuildStage;
+
+    SourceList getSrcs() {
+      if (srcsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (srcsBuildStage == STAGE_UNINITIALIZED) {
+        srcsBuildStage = STAGE_INITIALIZING;
+        this.srcs = Objects.requireNonNull(getSrcsInitialize(), "srcs");
+        srcsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.srcs;
+    }
+
+    void setSrcs(SourceList srcs) {
+      this.srcs = srcs;
+      srcsBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private int platformDepsBuildStage;
+
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+      if (platformDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformDepsBuildStage == STAGE_UNINITIALIZED) {
+        platformDepsBuildStage = STAGE_INITIALIZING;
+        this.platformDeps = Objects.requireNonNull(getPlatformDepsInitialize(), "platformDeps");
+        platformDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformDeps;
+    }
+
+    void setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = platformDeps;
+      platformDepsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean linkWhole;
+    private int linkWholeBuildStage;
+
+    boolean getLinkWhole() {
+      if (linkWholeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (linkWholeBuildStage == STAGE_UNINITIALIZED) {
+        linkWholeBuildStage = STAGE_INITIALIZING;
+        this.linkWhole = getLinkWholeInitialize();
+        linkWholeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.linkWhole;
+    }
+
+    void setLinkWhole(boolean linkWhole) {
+      this.linkWhole = linkWhole;
+      linkWholeBuildStage = STAGE_INITIALIZED;
+    }
+    private NativeLinkable.Linkage preferredLinkage;
+    private int preferredLinkageBuildStage;
+
+    NativeLinkable.Linkage getPreferredLinkage() {
+      if (preferredLinkageBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (preferredLinkageBuildStage == STAGE_UNINITIALIZED) {
+        preferredLinkageBuildStage = STAGE_INITIALIZING;
+        this.preferredLinkage = Objects.requireNonNull(getPreferredLinkageInitialize(), "preferredLinkage");
+        preferredLinkageBuildStage = STAGE_INITIALIZED;
+      }
+      return this.preferredLinkage;
+    }
+
+    void setPreferredLinkage(NativeLinkable.Linkage preferredLinkage) {
+      this.preferredLinkage = preferredLinkage;
+      preferredLinkageBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean enableProfiling;
+    private int enableProfilingBuildStage;
+
+    boolean isEnableProfiling() {
+      if (enableProfilingBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (enableProfilingBuildStage == STAGE_UNINITIALIZED) {
+        enableProfilingBuildStage = STAGE_INITIALIZING;
+        this.enableProfiling = isEnableProfilingInitialize();
+        enableProfilingBuildStage = STAGE_INITIALIZED;
+      }
+      return this.enableProfiling;
+    }
+
+    void setEnableProfiling(boolean enableProfiling) {
+      this.enableProfiling = enableProfiling;
+      enableProfilingBuildStage = STAGE_INITIALIZED;
+    }
+    private ImmutableList<String> haddockFlags;
+    private int haddockFlagsBuildStage;
+
+    ImmutableList<String> getHaddockFlags() {
+      if (haddockFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (haddockFlagsBuildStage == STAGE_UNINITIALIZED) {
+        haddockFlagsBuildStage = STAGE_INITIALIZING;
+        this.haddockFlags = Objects.requireNonNull(getHaddockFlagsInitialize(), "haddockFlags");
+        haddockFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.haddockFlags;
+    }
+
+    void setHaddockFlags(ImmutableList<String> haddockFlags) {
+      this.haddockFlags = haddockFlags;
+      haddockFlagsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (srcsBuildStage == STAGE_INITIALIZING) attributes.add("srcs");
+      if (platformDepsBuildStage == STAGE_INITIALIZING) attributes.add("platformDeps");
+      if (linkWholeBuildStage == STAGE_INITIALIZING) attributes.add("linkWhole");
+      if (preferredLinkageBuildStage == STAGE_INITIALIZING) attributes.add("preferredLinkage");
+      if (enableProfilingBuildStage == STAGE_INITIALIZING) attributes.add("enableProfiling");
+      if (haddockFlagsBuildStage == STAGE_INITIALIZING) attributes.add("haddockFlags");
+      return "Cannot build HaskellLibraryDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private SourceList getSrcsInitialize() {
+    return HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg.super.getSrcs();
+  }
+
+  private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDepsInitialize() {
+    return HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg.super.getPlatformDeps();
+  }
+
+  private boolean getLinkWholeInitialize() {
+    return HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg.super.getLinkWhole();
+  }
+
+  private NativeLinkable.Linkage getPreferredLinkageInitialize() {
+    return HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg.super.getPreferredLinkage();
+  }
+
+  private boolean isEnableProfilingInitialize() {
+    return HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg.super.isEnableProfiling();
+  }
+
+  private ImmutableList<String> getHaddockFlagsInitialize() {
+    return HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg.super.getHaddockFlags();
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public SourceList getSrcs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSrcs()
+        : this.srcs;
+  }
+
+  /**
+   * @return The value of the {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code compilerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCompilerFlags() {
+    return compilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code platformDeps} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformDeps()
+        : this.platformDeps;
+  }
+
+  /**
+   * @return The value of the {@code linkWhole} attribute
+   */
+  @Override
+  public boolean getLinkWhole() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLinkWhole()
+        : this.linkWhole;
+  }
+
+  /**
+   * @return The value of the {@code preferredLinkage} attribute
+   */
+  @Override
+  public NativeLinkable.Linkage getPreferredLinkage() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPreferredLinkage()
+        : this.preferredLinkage;
+  }
+
+  /**
+   * @return The value of the {@code enableProfiling} attribute
+   */
+  @Override
+  public boolean isEnableProfiling() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isEnableProfiling()
+        : this.enableProfiling;
+  }
+
+  /**
+   * @return The value of the {@code haddockFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getHaddockFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getHaddockFlags()
+        : this.haddockFlags;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getSrcs() srcs} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for srcs
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withSrcs(SourceList value) {
+    if (this.srcs == value) return this;
+    SourceList newValue = Objects.requireNonNull(value, "srcs");
+    return new HaskellLibraryDescriptionArg(
+        newValue,
+        this.linkerFlags,
+        this.compilerFlags,
+        this.platformDeps,
+        this.linkWhole,
+        this.preferredLinkage,
+        this.enableProfiling,
+        this.haddockFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLinkerFlags() linkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withLinkerFlags(StringWithMacros... elements) {
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return new HaskellLibraryDescriptionArg(
+        this.srcs,
+        newValue,
+        this.compilerFlags,
+        this.platformDeps,
+        this.linkWhole,
+        this.preferredLinkage,
+        this.enableProfiling,
+        this.haddockFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLinkerFlags() linkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of linkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+    if (this.linkerFlags == elements) return this;
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return new HaskellLibraryDescriptionArg(
+        this.srcs,
+        newValue,
+        this.compilerFlags,
+        this.platformDeps,
+        this.linkWhole,
+        this.preferredLinkage,
+        this.enableProfiling,
+        this.haddockFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getCompilerFlags() compilerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withCompilerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellLibraryDescriptionArg(
+        this.srcs,
+        this.linkerFlags,
+        newValue,
+        this.platformDeps,
+        this.linkWhole,
+        this.preferredLinkage,
+        this.enableProfiling,
+        this.haddockFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getCompilerFlags() compilerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of compilerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withCompilerFlags(Iterable<String> elements) {
+    if (this.compilerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellLibraryDescriptionArg(
+        this.srcs,
+        this.linkerFlags,
+        newValue,
+        this.platformDeps,
+        this.linkWhole,
+        this.preferredLinkage,
+        this.enableProfiling,
+        this.haddockFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getPlatformDeps() platformDeps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformDeps
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> value) {
+    if (this.platformDeps == value) return this;
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> newValue = Objects.requireNonNull(value, "platformDeps");
+    return new HaskellLibraryDescriptionArg(
+        this.srcs,
+        this.linkerFlags,
+        this.compilerFlags,
+        newValue,
+        this.linkWhole,
+        this.preferredLinkage,
+        this.enableProfiling,
+        this.haddockFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLinkWhole() linkWhole} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for linkWhole
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withLinkWhole(boolean value) {
+    if (this.linkWhole == value) return this;
+    return new HaskellLibraryDescriptionArg(
+        this.srcs,
+        this.linkerFlags,
+        this.compilerFlags,
+        this.platformDeps,
+        value,
+        this.preferredLinkage,
+        this.enableProfiling,
+        this.haddockFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getPreferredLinkage() preferredLinkage} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for preferredLinkage
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withPreferredLinkage(NativeLinkable.Linkage value) {
+    if (this.preferredLinkage == value) return this;
+    NativeLinkable.Linkage newValue = Objects.requireNonNull(value, "preferredLinkage");
+    return new HaskellLibraryDescriptionArg(
+        this.srcs,
+        this.linkerFlags,
+        this.compilerFlags,
+        this.platformDeps,
+        this.linkWhole,
+        newValue,
+        this.enableProfiling,
+        this.haddockFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#isEnableProfiling() enableProfiling} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for enableProfiling
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withEnableProfiling(boolean value) {
+    if (this.enableProfiling == value) return this;
+    return new HaskellLibraryDescriptionArg(
+        this.srcs,
+        this.linkerFlags,
+        this.compilerFlags,
+        this.platformDeps,
+        this.linkWhole,
+        this.preferredLinkage,
+        value,
+        this.haddockFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getHaddockFlags() haddockFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withHaddockFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellLibraryDescriptionArg(
+        this.srcs,
+        this.linkerFlags,
+        this.compilerFlags,
+        this.platformDeps,
+        this.linkWhole,
+        this.preferredLinkage,
+        this.enableProfiling,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getHaddockFlags() haddockFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of haddockFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withHaddockFlags(Iterable<String> elements) {
+    if (this.haddockFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellLibraryDescriptionArg(
+        this.srcs,
+        this.linkerFlags,
+        this.compilerFlags,
+        this.platformDeps,
+        this.linkWhole,
+        this.preferredLinkage,
+        this.enableProfiling,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new HaskellLibraryDescriptionArg(
+        this.srcs,
+        this.linkerFlags,
+        this.compilerFlags,
+        this.platformDeps,
+        this.linkWhole,
+        this.preferredLinkage,
+        this.enableProfiling,
+        this.haddockFlags,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new HaskellLibraryDescriptionArg(
+        this.srcs,
+        this.linkerFlags,
+        this.compilerFlags,
+        this.platformDeps,
+        this.linkWhole,
+        this.preferredLinkage,
+        this.enableProfiling,
+        this.haddockFlags,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new HaskellLibraryDescriptionArg(
+        this.srcs,
+        this.linkerFlags,
+        this.compilerFlags,
+        this.platformDeps,
+        this.linkWhole,
+        this.preferredLinkage,
+        this.enableProfiling,
+        this.haddockFlags,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new HaskellLibraryDescriptionArg(
+        this.srcs,
+        this.linkerFlags,
+        this.compilerFlags,
+        this.platformDeps,
+        this.linkWhole,
+        this.preferredLinkage,
+        this.enableProfiling,
+        this.haddockFlags,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new HaskellLibraryDescriptionArg(
+        this.srcs,
+        this.linkerFlags,
+        this.compilerFlags,
+        this.platformDeps,
+        this.linkWhole,
+        this.preferredLinkage,
+        this.enableProfiling,
+        this.haddockFlags,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new HaskellLibraryDescriptionArg(
+        this.srcs,
+        this.linkerFlags,
+        this.compilerFlags,
+        this.platformDeps,
+        this.linkWhole,
+        this.preferredLinkage,
+        this.enableProfiling,
+        this.haddockFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellLibraryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new HaskellLibraryDescriptionArg(
+        this.srcs,
+        this.linkerFlags,
+        this.compilerFlags,
+        this.platformDeps,
+        this.linkWhole,
+        this.preferredLinkage,
+        this.enableProfiling,
+        this.haddockFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HaskellLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HaskellLibraryDescriptionArg
+        && equalTo((HaskellLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(HaskellLibraryDescriptionArg another) {
+    return srcs.equals(another.srcs)
+        && linkerFlags.equals(another.linkerFlags)
+        && compilerFlags.equals(another.compilerFlags)
+        && platformDeps.equals(another.platformDeps)
+        && linkWhole == another.linkWhole
+        && preferredLinkage.equals(another.preferredLinkage)
+        && enableProfiling == another.enableProfiling
+        && haddockFlags.equals(another.haddockFlags)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code srcs}, {@code linkerFlags}, {@code compilerFlags}, {@code platformDeps}, {@code linkWhole}, {@code preferredLinkage}, {@code enableProfiling}, {@code haddockFlags}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    h += (h << 5) + compilerFlags.hashCode();
+    h += (h << 5) + platformDeps.hashCode();
+    h += (h << 5) + Booleans.hashCode(linkWhole);
+    h += (h << 5) + preferredLinkage.hashCode();
+    h += (h << 5) + Booleans.hashCode(enableProfiling);
+    h += (h << 5) + haddockFlags.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HaskellLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HaskellLibraryDescriptionArg")
+        .omitNullValues()
+        .add("srcs", srcs)
+        .add("linkerFlags", linkerFlags)
+        .add("compilerFlags", compilerFlags)
+        .add("platformDeps", platformDeps)
+        .add("linkWhole", linkWhole)
+        .add("preferredLinkage", preferredLinkage)
+        .add("enableProfiling", enableProfiling)
+        .add("haddockFlags", haddockFlags)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable HaskellLibraryDescriptionArg instance
+   */
+  static HaskellLibraryDescriptionArg copyOf(HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg instance) {
+    if (instance instanceof HaskellLibraryDescriptionArg) {
+      return (HaskellLibraryDescriptionArg) instance;
+    }
+    return HaskellLibraryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link HaskellLibraryDescriptionArg HaskellLibraryDescriptionArg}.
+   * @return A new HaskellLibraryDescriptionArg builder
+   */
+  public static HaskellLibraryDescriptionArg.Builder builder() {
+    return new HaskellLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HaskellLibraryDescriptionArg HaskellLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_LINK_WHOLE = 0x1L;
+    private static final long OPT_BIT_ENABLE_PROFILING = 0x2L;
+    private static final long OPT_BIT_HADDOCK_FLAGS = 0x4L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable SourceList srcs;
+    private ImmutableList.Builder<StringWithMacros> linkerFlags = ImmutableList.builder();
+    private ImmutableList.Builder<String> compilerFlags = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private boolean linkWhole;
+    private @Nullable NativeLinkable.Linkage preferredLinkage;
+    private boolean enableProfiling;
+    private ImmutableList.Builder<String> haddockFlags = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HaskellLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HaskellLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHaskellLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg) {
+        HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg instance = (HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg) object;
+        setLinkWhole(instance.getLinkWhole());
+        addAllHaddockFlags(instance.getHaddockFlags());
+        addAllCompilerFlags(instance.getCompilerFlags());
+        setPlatformDeps(instance.getPlatformDeps());
+        setSrcs(instance.getSrcs());
+        addAllLinkerFlags(instance.getLinkerFlags());
+        setPreferredLinkage(instance.getPreferredLinkage());
+        setEnableProfiling(instance.isEnableProfiling());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getSrcs() srcs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getSrcs() srcs}.</em>
+     * @param srcs The value for srcs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(SourceList srcs) {
+      this.srcs = Objects.requireNonNull(srcs, "srcs");
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(StringWithMacros element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(StringWithMacros... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param element A compilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(String element) {
+      this.compilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An array of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(String... elements) {
+      this.compilerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilerFlags(Iterable<String> elements) {
+      this.compilerFlags = ImmutableList.builder();
+      return addAllCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCompilerFlags(Iterable<String> elements) {
+      this.compilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getPlatformDeps() platformDeps} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getPlatformDeps() platformDeps}.</em>
+     * @param platformDeps The value for platformDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = Objects.requireNonNull(platformDeps, "platformDeps");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLinkWhole() linkWhole} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLinkWhole() linkWhole}.</em>
+     * @param linkWhole The value for linkWhole 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkWhole(boolean linkWhole) {
+      this.linkWhole = linkWhole;
+      optBits |= OPT_BIT_LINK_WHOLE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getPreferredLinkage() preferredLinkage} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getPreferredLinkage() preferredLinkage}.</em>
+     * @param preferredLinkage The value for preferredLinkage 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPreferredLinkage(NativeLinkable.Linkage preferredLinkage) {
+      this.preferredLinkage = Objects.requireNonNull(preferredLinkage, "preferredLinkage");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#isEnableProfiling() enableProfiling} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#isEnableProfiling() enableProfiling}.</em>
+     * @param enableProfiling The value for enableProfiling 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnableProfiling(boolean enableProfiling) {
+      this.enableProfiling = enableProfiling;
+      optBits |= OPT_BIT_ENABLE_PROFILING;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getHaddockFlags() haddockFlags} list.
+     * @param element A haddockFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addHaddockFlags(String element) {
+      this.haddockFlags.add(element);
+      optBits |= OPT_BIT_HADDOCK_FLAGS;
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getHaddockFlags() haddockFlags} list.
+     * @param elements An array of haddockFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addHaddockFlags(String... elements) {
+      this.haddockFlags.add(elements);
+      optBits |= OPT_BIT_HADDOCK_FLAGS;
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getHaddockFlags() haddockFlags} list.
+     * @param elements An iterable of haddockFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHaddockFlags(Iterable<String> elements) {
+      this.haddockFlags = ImmutableList.builder();
+      return addAllHaddockFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getHaddockFlags() haddockFlags} list.
+     * @param elements An iterable of haddockFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllHaddockFlags(Iterable<String> elements) {
+      this.haddockFlags.addAll(elements);
+      optBits |= OPT_BIT_HADDOCK_FLAGS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellLibraryDescription.AbstractHaskellLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HaskellLibraryDescriptionArg HaskellLibraryDescriptionArg}.
+     * @return An immutable instance of HaskellLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HaskellLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new HaskellLibraryDescriptionArg(this);
+    }
+
+    private boolean linkWholeIsSet() {
+      return (optBits & OPT_BIT_LINK_WHOLE) != 0;
+    }
+
+    private boolean enableProfilingIsSet() {
+      return (optBits & OPT_BIT_ENABLE_PROFILING) != 0;
+    }
+
+    private boolean haddockFlagsIsSet() {
+      return (optBits & OPT_BIT_HADDOCK_FLAGS) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build HaskellLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
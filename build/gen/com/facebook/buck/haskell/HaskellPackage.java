@@ -0,0 +1,475 @@
+package com.facebook.buck.haskell;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Represents a Haskell package used as a dependency during compilation. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractHaskellPackage"})
+@Immutable
+public final class HaskellPackage extends AbstractHaskellPackage {
+  private final HaskellPackageInfo info;
+  private final SourcePath packageDb;
+  private final ImmutableSortedSet<SourcePath> libraries;
+  private final ImmutableSortedSet<SourcePath> interfaces;
+  private final ImmutableSortedSet<SourcePath> objects;
+
+  private HaskellPackage(
+      HaskellPackageInfo info,
+      SourcePath packageDb,
+      ImmutableSortedSet<SourcePath> libraries,
+      ImmutableSortedSet<SourcePath> interfaces,
+      ImmutableSortedSet<SourcePath> objects) {
+    this.info = info;
+    this.packageDb = packageDb;
+    this.libraries = libraries;
+    this.interfaces = interfaces;
+    this.objects = objects;
+  }
+
+  /**
+   *@return the package identifying information (i.e. name, version, identifier). 
+   */
+  @Override
+  public HaskellPackageInfo getInfo() {
+    return info;
+  }
+
+  /**
+   *@return the path to the package DB. 
+   */
+  @Override
+  public SourcePath getPackageDb() {
+    return packageDb;
+  }
+
+  /**
+   *@return the path to all libraries included in the package. 
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getLibraries() {
+    return libraries;
+  }
+
+  /**
+   *@return the path to all interface directories included in the package. 
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getInterfaces() {
+    return interfaces;
+  }
+
+  /**
+   *@return the path to all interface directories included in the package. 
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getObjects() {
+    return objects;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHaskellPackage#getInfo() info} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for info
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPackage withInfo(HaskellPackageInfo value) {
+    if (this.info == value) return this;
+    HaskellPackageInfo newValue = Objects.requireNonNull(value, "info");
+    return new HaskellPackage(newValue, this.packageDb, this.libraries, this.interfaces, this.objects);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHaskellPackage#getPackageDb() packageDb} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for packageDb
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPackage withPackageDb(SourcePath value) {
+    if (this.packageDb == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "packageDb");
+    return new HaskellPackage(this.info, newValue, this.libraries, this.interfaces, this.objects);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellPackage#getLibraries() libraries}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPackage withLibraries(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new HaskellPackage(this.info, this.packageDb, newValue, this.interfaces, this.objects);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellPackage#getLibraries() libraries}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of libraries elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPackage withLibraries(Iterable<? extends SourcePath> elements) {
+    if (this.libraries == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new HaskellPackage(this.info, this.packageDb, newValue, this.interfaces, this.objects);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellPackage#getInterfaces() interfaces}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPackage withInterfaces(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new HaskellPackage(this.info, this.packageDb, this.libraries, newValue, this.objects);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellPackage#getInterfaces() interfaces}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of interfaces elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPackage withInterfaces(Iterable<? extends SourcePath> elements) {
+    if (this.interfaces == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new HaskellPackage(this.info, this.packageDb, this.libraries, newValue, this.objects);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellPackage#getObjects() objects}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPackage withObjects(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new HaskellPackage(this.info, this.packageDb, this.libraries, this.interfaces, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellPackage#getObjects() objects}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of objects elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPackage withObjects(Iterable<? extends SourcePath> elements) {
+    if (this.objects == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new HaskellPackage(this.info, this.packageDb, this.libraries, this.interfaces, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HaskellPackage} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HaskellPackage
+        && equalTo((HaskellPackage) another);
+  }
+
+  private boolean equalTo(HaskellPackage another) {
+    return info.equals(another.info)
+        && packageDb.equals(another.packageDb)
+        && libraries.equals(another.libraries)
+        && interfaces.equals(another.interfaces)
+        && objects.equals(another.objects);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code info}, {@code packageDb}, {@code libraries}, {@code interfaces}, {@code objects}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + info.hashCode();
+    h += (h << 5) + packageDb.hashCode();
+    h += (h << 5) + libraries.hashCode();
+    h += (h << 5) + interfaces.hashCode();
+    h += (h << 5) + objects.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HaskellPackage} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HaskellPackage")
+        .omitNullValues()
+        .add("info", info)
+        .add("packageDb", packageDb)
+        .add("libraries", libraries)
+        .add("interfaces", interfaces)
+        .add("objects", objects)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractHaskellPackage} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable HaskellPackage instance
+   */
+  static HaskellPackage copyOf(AbstractHaskellPackage instance) {
+    if (instance instanceof HaskellPackage) {
+      return (HaskellPackage) instance;
+    }
+    return HaskellPackage.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link HaskellPackage HaskellPackage}.
+   * @return A new HaskellPackage builder
+   */
+  public static HaskellPackage.Builder builder() {
+    return new HaskellPackage.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HaskellPackage HaskellPackage}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_INFO = 0x1L;
+    private static final long INIT_BIT_PACKAGE_DB = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable HaskellPackageInfo info;
+    private @Nullable SourcePath packageDb;
+    private ImmutableSortedSet.Builder<SourcePath> libraries = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> interfaces = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> objects = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HaskellPackage} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HaskellPackage instance) {
+      return from((AbstractHaskellPackage) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHaskellPackage} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractHaskellPackage instance) {
+      Objects.requireNonNull(instance, "instance");
+      setInfo(instance.getInfo());
+      setPackageDb(instance.getPackageDb());
+      addAllLibraries(instance.getLibraries());
+      addAllInterfaces(instance.getInterfaces());
+      addAllObjects(instance.getObjects());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractHaskellPackage#getInfo() info} attribute.
+     * @param info The value for info 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInfo(HaskellPackageInfo info) {
+      this.info = Objects.requireNonNull(info, "info");
+      initBits &= ~INIT_BIT_INFO;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractHaskellPackage#getPackageDb() packageDb} attribute.
+     * @param packageDb The value for packageDb 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackageDb(SourcePath packageDb) {
+      this.packageDb = Objects.requireNonNull(packageDb, "packageDb");
+      initBits &= ~INIT_BIT_PACKAGE_DB;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractHaskellPackage#getLibraries() libraries} sortedSet.
+     * @param element A libraries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLibraries(SourcePath element) {
+      this.libraries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellPackage#getLibraries() libraries} sortedSet.
+     * @param elements An array of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLibraries(SourcePath... elements) {
+      this.libraries.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractHaskellPackage#getLibraries() libraries} sortedSet.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLibraries(Iterable<? extends SourcePath> elements) {
+      this.libraries = ImmutableSortedSet.naturalOrder();
+      return addAllLibraries(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellPackage#getLibraries() libraries} sortedSet.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLibraries(Iterable<? extends SourcePath> elements) {
+      this.libraries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractHaskellPackage#getInterfaces() interfaces} sortedSet.
+     * @param element A interfaces element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addInterfaces(SourcePath element) {
+      this.interfaces.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellPackage#getInterfaces() interfaces} sortedSet.
+     * @param elements An array of interfaces elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addInterfaces(SourcePath... elements) {
+      this.interfaces.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractHaskellPackage#getInterfaces() interfaces} sortedSet.
+     * @param elements An iterable of interfaces elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInterfaces(Iterable<? extends SourcePath> elements) {
+      this.interfaces = ImmutableSortedSet.naturalOrder();
+      return addAllInterfaces(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellPackage#getInterfaces() interfaces} sortedSet.
+     * @param elements An iterable of interfaces elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllInterfaces(Iterable<? extends SourcePath> elements) {
+      this.interfaces.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractHaskellPackage#getObjects() objects} sortedSet.
+     * @param element A objects element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addObjects(SourcePath element) {
+      this.objects.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellPackage#getObjects() objects} sortedSet.
+     * @param elements An array of objects elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addObjects(SourcePath... elements) {
+      this.objects.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractHaskellPackage#getObjects() objects} sortedSet.
+     * @param elements An iterable of objects elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setObjects(Iterable<? extends SourcePath> elements) {
+      this.objects = ImmutableSortedSet.naturalOrder();
+      return addAllObjects(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellPackage#getObjects() objects} sortedSet.
+     * @param elements An iterable of objects elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllObjects(Iterable<? extends SourcePath> elements) {
+      this.objects.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HaskellPackage HaskellPackage}.
+     * @return An immutable instance of HaskellPackage
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HaskellPackage build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new HaskellPackage(info, packageDb, libraries.build(), interfaces.build(), objects.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_INFO) != 0) attributes.add("info");
+      if ((initBits & INIT_BIT_PACKAGE_DB) != 0) attributes.add("packageDb");
+      return "Cannot build HaskellPackage, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,1431 @@
+package com.facebook.buck.haskell;
+
+import com.facebook.buck.cxx.toolchain.CxxPlatform;
+import com.facebook.buck.rules.ToolProvider;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractHaskellPlatform}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code HaskellPlatform.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractHaskellPlatform"})
+@Immutable
+public final class HaskellPlatform extends AbstractHaskellPlatform {
+  private final ToolProvider compiler;
+  private final ToolProvider haddock;
+  private final HaskellVersion haskellVersion;
+  private final ImmutableList<String> compilerFlags;
+  private final ToolProvider linker;
+  private final ImmutableList<String> linkerFlags;
+  private final ToolProvider packager;
+  private final boolean shouldCacheLinks;
+  private final @Nullable Boolean shouldUsedOldBinaryOutputLocation;
+  private final Supplier<Path> ghciScriptTemplate;
+  private final Supplier<Path> ghciBinutils;
+  private final Supplier<Path> ghciGhc;
+  private final Supplier<Path> ghciLib;
+  private final Supplier<Path> ghciCxx;
+  private final Supplier<Path> ghciCc;
+  private final Supplier<Path> ghciCpp;
+  private final @Nullable String packageNamePrefix;
+  private final CxxPlatform cxxPlatform;
+
+  private HaskellPlatform(
+      ToolProvider compiler,
+      ToolProvider haddock,
+      HaskellVersion haskellVersion,
+      ImmutableList<String> compilerFlags,
+      ToolProvider linker,
+      ImmutableList<String> linkerFlags,
+      ToolProvider packager,
+      boolean shouldCacheLinks,
+      @Nullable Boolean shouldUsedOldBinaryOutputLocation,
+      Supplier<Path> ghciScriptTemplate,
+      Supplier<Path> ghciBinutils,
+      Supplier<Path> ghciGhc,
+      Supplier<Path> ghciLib,
+      Supplier<Path> ghciCxx,
+      Supplier<Path> ghciCc,
+      Supplier<Path> ghciCpp,
+      @Nullable String packageNamePrefix,
+      CxxPlatform cxxPlatform) {
+    this.compiler = compiler;
+    this.haddock = haddock;
+    this.haskellVersion = haskellVersion;
+    this.compilerFlags = compilerFlags;
+    this.linker = linker;
+    this.linkerFlags = linkerFlags;
+    this.packager = packager;
+    this.shouldCacheLinks = shouldCacheLinks;
+    this.shouldUsedOldBinaryOutputLocation = shouldUsedOldBinaryOutputLocation;
+    this.ghciScriptTemplate = ghciScriptTemplate;
+    this.ghciBinutils = ghciBinutils;
+    this.ghciGhc = ghciGhc;
+    this.ghciLib = ghciLib;
+    this.ghciCxx = ghciCxx;
+    this.ghciCc = ghciCc;
+    this.ghciCpp = ghciCpp;
+    this.packageNamePrefix = packageNamePrefix;
+    this.cxxPlatform = cxxPlatform;
+  }
+
+  /**
+   *@return the {@link ToolProvider} for the haskell compiler. 
+   */
+  @Override
+  public ToolProvider getCompiler() {
+    return compiler;
+  }
+
+  /**
+   *@return The Haddock binary. 
+   */
+  @Override
+  public ToolProvider getHaddock() {
+    return haddock;
+  }
+
+  /**
+   *@return the {@link HaskellVersion} for the haskell compiler. 
+   */
+  @Override
+  public HaskellVersion getHaskellVersion() {
+    return haskellVersion;
+  }
+
+  /**
+   *@return a list of flags to use for compilation. 
+   */
+  @Override
+  public ImmutableList<String> getCompilerFlags() {
+    return compilerFlags;
+  }
+
+  /**
+   *@return the {@link ToolProvider} for the haskell linker. 
+   */
+  @Override
+  public ToolProvider getLinker() {
+    return linker;
+  }
+
+  /**
+   *@return a list of flags to use for linking. 
+   */
+  @Override
+  public ImmutableList<String> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   *@return the {@link ToolProvider} for the haskell packager. 
+   */
+  @Override
+  public ToolProvider getPackager() {
+    return packager;
+  }
+
+  /**
+   *@return whether to cache haskell link rules. 
+   */
+  @Override
+  public boolean shouldCacheLinks() {
+    return shouldCacheLinks;
+  }
+
+  /**
+   *@return whether to use the deprecated binary output location. 
+   */
+  @Override
+  public Optional<Boolean> shouldUsedOldBinaryOutputLocation() {
+    return Optional.ofNullable(shouldUsedOldBinaryOutputLocation);
+  }
+
+  /**
+   *@return The template to use for startup scripts for GHCi targets. 
+   */
+  @Override
+  public Supplier<Path> getGhciScriptTemplate() {
+    return ghciScriptTemplate;
+  }
+
+  /**
+   *@return The binutils dir for GHCi targets. 
+   */
+  @Override
+  public Supplier<Path> getGhciBinutils() {
+    return ghciBinutils;
+  }
+
+  /**
+   *@return The GHC binary for GHCi targets. 
+   */
+  @Override
+  public Supplier<Path> getGhciGhc() {
+    return ghciGhc;
+  }
+
+  /**
+   *@return The lib dir for GHCi targets. 
+   */
+  @Override
+  public Supplier<Path> getGhciLib() {
+    return ghciLib;
+  }
+
+  /**
+   *@return The C++ compiler for GHCi targets. 
+   */
+  @Override
+  public Supplier<Path> getGhciCxx() {
+    return ghciCxx;
+  }
+
+  /**
+   *@return The C compiler for GHCi targets. 
+   */
+  @Override
+  public Supplier<Path> getGhciCc() {
+    return ghciCc;
+  }
+
+  /**
+   *@return The C preprocessor for GHCi targets. 
+   */
+  @Override
+  public Supplier<Path> getGhciCpp() {
+    return ghciCpp;
+  }
+
+  /**
+   *@return An optional prefix for generated Haskell package names. 
+   */
+  @Override
+  public Optional<String> getPackageNamePrefix() {
+    return Optional.ofNullable(packageNamePrefix);
+  }
+
+  /**
+   *@return the {@link CxxPlatform} to use for C/C++ dependencies. 
+   */
+  @Override
+  public CxxPlatform getCxxPlatform() {
+    return cxxPlatform;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHaskellPlatform#getCompiler() compiler} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for compiler
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPlatform withCompiler(ToolProvider value) {
+    if (this.compiler == value) return this;
+    ToolProvider newValue = Objects.requireNonNull(value, "compiler");
+    return new HaskellPlatform(
+        newValue,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHaskellPlatform#getHaddock() haddock} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for haddock
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPlatform withHaddock(ToolProvider value) {
+    if (this.haddock == value) return this;
+    ToolProvider newValue = Objects.requireNonNull(value, "haddock");
+    return new HaskellPlatform(
+        this.compiler,
+        newValue,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHaskellPlatform#getHaskellVersion() haskellVersion} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for haskellVersion
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPlatform withHaskellVersion(HaskellVersion value) {
+    if (this.haskellVersion == value) return this;
+    HaskellVersion newValue = Objects.requireNonNull(value, "haskellVersion");
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        newValue,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellPlatform#getCompilerFlags() compilerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPlatform withCompilerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        newValue,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellPlatform#getCompilerFlags() compilerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of compilerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPlatform withCompilerFlags(Iterable<String> elements) {
+    if (this.compilerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        newValue,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHaskellPlatform#getLinker() linker} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for linker
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPlatform withLinker(ToolProvider value) {
+    if (this.linker == value) return this;
+    ToolProvider newValue = Objects.requireNonNull(value, "linker");
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        newValue,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellPlatform#getLinkerFlags() linkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPlatform withLinkerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        newValue,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellPlatform#getLinkerFlags() linkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of linkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPlatform withLinkerFlags(Iterable<String> elements) {
+    if (this.linkerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        newValue,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHaskellPlatform#getPackager() packager} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for packager
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPlatform withPackager(ToolProvider value) {
+    if (this.packager == value) return this;
+    ToolProvider newValue = Objects.requireNonNull(value, "packager");
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        newValue,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHaskellPlatform#shouldCacheLinks() shouldCacheLinks} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for shouldCacheLinks
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPlatform withShouldCacheLinks(boolean value) {
+    if (this.shouldCacheLinks == value) return this;
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        value,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractHaskellPlatform#shouldUsedOldBinaryOutputLocation() shouldUsedOldBinaryOutputLocation} attribute.
+   * @param value The value for shouldUsedOldBinaryOutputLocation
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPlatform withShouldUsedOldBinaryOutputLocation(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.shouldUsedOldBinaryOutputLocation, newValue)) return this;
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        newValue,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractHaskellPlatform#shouldUsedOldBinaryOutputLocation() shouldUsedOldBinaryOutputLocation} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for shouldUsedOldBinaryOutputLocation
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPlatform withShouldUsedOldBinaryOutputLocation(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.shouldUsedOldBinaryOutputLocation, value)) return this;
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        value,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHaskellPlatform#getGhciScriptTemplate() ghciScriptTemplate} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ghciScriptTemplate
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPlatform withGhciScriptTemplate(Supplier<Path> value) {
+    if (this.ghciScriptTemplate == value) return this;
+    Supplier<Path> newValue = Objects.requireNonNull(value, "ghciScriptTemplate");
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        newValue,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHaskellPlatform#getGhciBinutils() ghciBinutils} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ghciBinutils
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPlatform withGhciBinutils(Supplier<Path> value) {
+    if (this.ghciBinutils == value) return this;
+    Supplier<Path> newValue = Objects.requireNonNull(value, "ghciBinutils");
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        newValue,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHaskellPlatform#getGhciGhc() ghciGhc} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ghciGhc
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPlatform withGhciGhc(Supplier<Path> value) {
+    if (this.ghciGhc == value) return this;
+    Supplier<Path> newValue = Objects.requireNonNull(value, "ghciGhc");
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        newValue,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHaskellPlatform#getGhciLib() ghciLib} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ghciLib
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPlatform withGhciLib(Supplier<Path> value) {
+    if (this.ghciLib == value) return this;
+    Supplier<Path> newValue = Objects.requireNonNull(value, "ghciLib");
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        newValue,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHaskellPlatform#getGhciCxx() ghciCxx} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ghciCxx
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPlatform withGhciCxx(Supplier<Path> value) {
+    if (this.ghciCxx == value) return this;
+    Supplier<Path> newValue = Objects.requireNonNull(value, "ghciCxx");
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        newValue,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHaskellPlatform#getGhciCc() ghciCc} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ghciCc
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPlatform withGhciCc(Supplier<Path> value) {
+    if (this.ghciCc == value) return this;
+    Supplier<Path> newValue = Objects.requireNonNull(value, "ghciCc");
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        newValue,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHaskellPlatform#getGhciCpp() ghciCpp} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ghciCpp
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPlatform withGhciCpp(Supplier<Path> value) {
+    if (this.ghciCpp == value) return this;
+    Supplier<Path> newValue = Objects.requireNonNull(value, "ghciCpp");
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        newValue,
+        this.packageNamePrefix,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractHaskellPlatform#getPackageNamePrefix() packageNamePrefix} attribute.
+   * @param value The value for packageNamePrefix
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPlatform withPackageNamePrefix(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "packageNamePrefix");
+    if (Objects.equals(this.packageNamePrefix, newValue)) return this;
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        newValue,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractHaskellPlatform#getPackageNamePrefix() packageNamePrefix} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for packageNamePrefix
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPlatform withPackageNamePrefix(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.packageNamePrefix, value)) return this;
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        value,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHaskellPlatform#getCxxPlatform() cxxPlatform} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cxxPlatform
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPlatform withCxxPlatform(CxxPlatform value) {
+    if (this.cxxPlatform == value) return this;
+    CxxPlatform newValue = Objects.requireNonNull(value, "cxxPlatform");
+    return new HaskellPlatform(
+        this.compiler,
+        this.haddock,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation,
+        this.ghciScriptTemplate,
+        this.ghciBinutils,
+        this.ghciGhc,
+        this.ghciLib,
+        this.ghciCxx,
+        this.ghciCc,
+        this.ghciCpp,
+        this.packageNamePrefix,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HaskellPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HaskellPlatform
+        && equalTo((HaskellPlatform) another);
+  }
+
+  private boolean equalTo(HaskellPlatform another) {
+    return compiler.equals(another.compiler)
+        && haddock.equals(another.haddock)
+        && haskellVersion.equals(another.haskellVersion)
+        && compilerFlags.equals(another.compilerFlags)
+        && linker.equals(another.linker)
+        && linkerFlags.equals(another.linkerFlags)
+        && packager.equals(another.packager)
+        && shouldCacheLinks == another.shouldCacheLinks
+        && Objects.equals(shouldUsedOldBinaryOutputLocation, another.shouldUsedOldBinaryOutputLocation)
+        && ghciScriptTemplate.equals(another.ghciScriptTemplate)
+        && ghciBinutils.equals(another.ghciBinutils)
+        && ghciGhc.equals(another.ghciGhc)
+        && ghciLib.equals(another.ghciLib)
+        && ghciCxx.equals(another.ghciCxx)
+        && ghciCc.equals(another.ghciCc)
+        && ghciCpp.equals(another.ghciCpp)
+        && Objects.equals(packageNamePrefix, another.packageNamePrefix)
+        && cxxPlatform.equals(another.cxxPlatform);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code compiler}, {@code haddock}, {@code haskellVersion}, {@code compilerFlags}, {@code linker}, {@code linkerFlags}, {@code packager}, {@code shouldCacheLinks}, {@code shouldUsedOldBinaryOutputLocation}, {@code ghciScriptTemplate}, {@code ghciBinutils}, {@code ghciGhc}, {@code ghciLib}, {@code ghciCxx}, {@code ghciCc}, {@code ghciCpp}, {@code packageNamePrefix}, {@code cxxPlatform}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + compiler.hashCode();
+    h += (h << 5) + haddock.hashCode();
+    h += (h << 5) + haskellVersion.hashCode();
+    h += (h << 5) + compilerFlags.hashCode();
+    h += (h << 5) + linker.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    h += (h << 5) + packager.hashCode();
+    h += (h << 5) + Booleans.hashCode(shouldCacheLinks);
+    h += (h << 5) + Objects.hashCode(shouldUsedOldBinaryOutputLocation);
+    h += (h << 5) + ghciScriptTemplate.hashCode();
+    h += (h << 5) + ghciBinutils.hashCode();
+    h += (h << 5) + ghciGhc.hashCode();
+    h += (h << 5) + ghciLib.hashCode();
+    h += (h << 5) + ghciCxx.hashCode();
+    h += (h << 5) + ghciCc.hashCode();
+    h += (h << 5) + ghciCpp.hashCode();
+    h += (h << 5) + Objects.hashCode(packageNamePrefix);
+    h += (h << 5) + cxxPlatform.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HaskellPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HaskellPlatform")
+        .omitNullValues()
+        .add("compiler", compiler)
+        .add("haddock", haddock)
+        .add("haskellVersion", haskellVersion)
+        .add("compilerFlags", compilerFlags)
+        .add("linker", linker)
+        .add("linkerFlags", linkerFlags)
+        .add("packager", packager)
+        .add("shouldCacheLinks", shouldCacheLinks)
+        .add("shouldUsedOldBinaryOutputLocation", shouldUsedOldBinaryOutputLocation)
+        .add("ghciScriptTemplate", ghciScriptTemplate)
+        .add("ghciBinutils", ghciBinutils)
+        .add("ghciGhc", ghciGhc)
+        .add("ghciLib", ghciLib)
+        .add("ghciCxx", ghciCxx)
+        .add("ghciCc", ghciCc)
+        .add("ghciCpp", ghciCpp)
+        .add("packageNamePrefix", packageNamePrefix)
+        .add("cxxPlatform", cxxPlatform)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractHaskellPlatform} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable HaskellPlatform instance
+   */
+  static HaskellPlatform copyOf(AbstractHaskellPlatform instance) {
+    if (instance instanceof HaskellPlatform) {
+      return (HaskellPlatform) instance;
+    }
+    return HaskellPlatform.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link HaskellPlatform HaskellPlatform}.
+   * @return A new HaskellPlatform builder
+   */
+  public static HaskellPlatform.Builder builder() {
+    return new HaskellPlatform.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HaskellPlatform HaskellPlatform}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_COMPILER = 0x1L;
+    private static final long INIT_BIT_HADDOCK = 0x2L;
+    private static final long INIT_BIT_HASKELL_VERSION = 0x4L;
+    private static final long INIT_BIT_LINKER = 0x8L;
+    private static final long INIT_BIT_PACKAGER = 0x10L;
+    private static final long INIT_BIT_SHOULD_CACHE_LINKS = 0x20L;
+    private static final long INIT_BIT_GHCI_SCRIPT_TEMPLATE = 0x40L;
+    private static final long INIT_BIT_GHCI_BINUTILS = 0x80L;
+    private static final long INIT_BIT_GHCI_GHC = 0x100L;
+    private static final long INIT_BIT_GHCI_LIB = 0x200L;
+    private static final long INIT_BIT_GHCI_CXX = 0x400L;
+    private static final long INIT_BIT_GHCI_CC = 0x800L;
+    private static final long INIT_BIT_GHCI_CPP = 0x1000L;
+    private static final long INIT_BIT_CXX_PLATFORM = 0x2000L;
+    private long initBits = 0x3fffL;
+
+    private @Nullable ToolProvider compiler;
+    private @Nullable ToolProvider haddock;
+    private @Nullable HaskellVersion haskellVersion;
+    private ImmutableList.Builder<String> compilerFlags = ImmutableList.builder();
+    private @Nullable ToolProvider linker;
+    private ImmutableList.Builder<String> linkerFlags = ImmutableList.builder();
+    private @Nullable ToolProvider packager;
+    private boolean shouldCacheLinks;
+    private @Nullable Boolean shouldUsedOldBinaryOutputLocation;
+    private @Nullable Supplier<Path> ghciScriptTemplate;
+    private @Nullable Supplier<Path> ghciBinutils;
+    private @Nullable Supplier<Path> ghciGhc;
+    private @Nullable Supplier<Path> ghciLib;
+    private @Nullable Supplier<Path> ghciCxx;
+    private @Nullable Supplier<Path> ghciCc;
+    private @Nullable Supplier<Path> ghciCpp;
+    private @Nullable String packageNamePrefix;
+    private @Nullable CxxPlatform cxxPlatform;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HaskellPlatform} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HaskellPlatform instance) {
+      return from((AbstractHaskellPlatform) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHaskellPlatform} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractHaskellPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCompiler(instance.getCompiler());
+      setHaddock(instance.getHaddock());
+      setHaskellVersion(instance.getHaskellVersion());
+      addAllCompilerFlags(instance.getCompilerFlags());
+      setLinker(instance.getLinker());
+      addAllLinkerFlags(instance.getLinkerFlags());
+      setPackager(instance.getPackager());
+      setShouldCacheLinks(instance.shouldCacheLinks());
+      Optional<Boolean> shouldUsedOldBinaryOutputLocationOptional = instance.shouldUsedOldBinaryOutputLocation();
+      if (shouldUsedOldBinaryOutputLocationOptional.isPresent()) {
+        setShouldUsedOldBinaryOutputLocation(shouldUsedOldBinaryOutputLocationOptional);
+      }
+      setGhciScriptTemplate(instance.getGhciScriptTemplate());
+      setGhciBinutils(instance.getGhciBinutils());
+      setGhciGhc(instance.getGhciGhc());
+      setGhciLib(instance.getGhciLib());
+      setGhciCxx(instance.getGhciCxx());
+      setGhciCc(instance.getGhciCc());
+      setGhciCpp(instance.getGhciCpp());
+      Optional<String> packageNamePrefixOptional = instance.getPackageNamePrefix();
+      if (packageNamePrefixOptional.isPresent()) {
+        setPackageNamePrefix(packageNamePrefixOptional);
+      }
+      setCxxPlatform(instance.getCxxPlatform());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractHaskellPlatform#getCompiler() compiler} attribute.
+     * @param compiler The value for compiler 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompiler(ToolProvider compiler) {
+      this.compiler = Objects.requireNonNull(compiler, "compiler");
+      initBits &= ~INIT_BIT_COMPILER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractHaskellPlatform#getHaddock() haddock} attribute.
+     * @param haddock The value for haddock 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHaddock(ToolProvider haddock) {
+      this.haddock = Objects.requireNonNull(haddock, "haddock");
+      initBits &= ~INIT_BIT_HADDOCK;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractHaskellPlatform#getHaskellVersion() haskellVersion} attribute.
+     * @param haskellVersion The value for haskellVersion 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHaskellVersion(HaskellVersion haskellVersion) {
+      this.haskellVersion = Objects.requireNonNull(haskellVersion, "haskellVersion");
+      initBits &= ~INIT_BIT_HASKELL_VERSION;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractHaskellPlatform#getCompilerFlags() compilerFlags} list.
+     * @param element A compilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(String element) {
+      this.compilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellPlatform#getCompilerFlags() compilerFlags} list.
+     * @param elements An array of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(String... elements) {
+      this.compilerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractHaskellPlatform#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilerFlags(Iterable<String> elements) {
+      this.compilerFlags = ImmutableList.builder();
+      return addAllCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellPlatform#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCompilerFlags(Iterable<String> elements) {
+      this.compilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractHaskellPlatform#getLinker() linker} attribute.
+     * @param linker The value for linker 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinker(ToolProvider linker) {
+      this.linker = Objects.requireNonNull(linker, "linker");
+      initBits &= ~INIT_BIT_LINKER;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractHaskellPlatform#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellPlatform#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractHaskellPlatform#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellPlatform#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractHaskellPlatform#getPackager() packager} attribute.
+     * @param packager The value for packager 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackager(ToolProvider packager) {
+      this.packager = Objects.requireNonNull(packager, "packager");
+      initBits &= ~INIT_BIT_PACKAGER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractHaskellPlatform#shouldCacheLinks() shouldCacheLinks} attribute.
+     * @param shouldCacheLinks The value for shouldCacheLinks 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setShouldCacheLinks(boolean shouldCacheLinks) {
+      this.shouldCacheLinks = shouldCacheLinks;
+      initBits &= ~INIT_BIT_SHOULD_CACHE_LINKS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractHaskellPlatform#shouldUsedOldBinaryOutputLocation() shouldUsedOldBinaryOutputLocation} to shouldUsedOldBinaryOutputLocation.
+     * @param shouldUsedOldBinaryOutputLocation The value for shouldUsedOldBinaryOutputLocation
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setShouldUsedOldBinaryOutputLocation(boolean shouldUsedOldBinaryOutputLocation) {
+      this.shouldUsedOldBinaryOutputLocation = shouldUsedOldBinaryOutputLocation;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractHaskellPlatform#shouldUsedOldBinaryOutputLocation() shouldUsedOldBinaryOutputLocation} to shouldUsedOldBinaryOutputLocation.
+     * @param shouldUsedOldBinaryOutputLocation The value for shouldUsedOldBinaryOutputLocation
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setShouldUsedOldBinaryOutputLocation(Optional<Boolean> shouldUsedOldBinaryOutputLocation) {
+      this.shouldUsedOldBinaryOutputLocation = shouldUsedOldBinaryOutputLocation.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractHaskellPlatform#getGhciScriptTemplate() ghciScriptTemplate} attribute.
+     * @param ghciScriptTemplate The value for ghciScriptTemplate 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGhciScriptTemplate(Supplier<Path> ghciScriptTemplate) {
+      this.ghciScriptTemplate = Objects.requireNonNull(ghciScriptTemplate, "ghciScriptTemplate");
+      initBits &= ~INIT_BIT_GHCI_SCRIPT_TEMPLATE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractHaskellPlatform#getGhciBinutils() ghciBinutils} attribute.
+     * @param ghciBinutils The value for ghciBinutils 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGhciBinutils(Supplier<Path> ghciBinutils) {
+      this.ghciBinutils = Objects.requireNonNull(ghciBinutils, "ghciBinutils");
+      initBits &= ~INIT_BIT_GHCI_BINUTILS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractHaskellPlatform#getGhciGhc() ghciGhc} attribute.
+     * @param ghciGhc The value for ghciGhc 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGhciGhc(Supplier<Path> ghciGhc) {
+      this.ghciGhc = Objects.requireNonNull(ghciGhc, "ghciGhc");
+      initBits &= ~INIT_BIT_GHCI_GHC;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractHaskellPlatform#getGhciLib() ghciLib} attribute.
+     * @param ghciLib The value for ghciLib 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGhciLib(Supplier<Path> ghciLib) {
+      this.ghciLib = Objects.requireNonNull(ghciLib, "ghciLib");
+      initBits &= ~INIT_BIT_GHCI_LIB;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractHaskellPlatform#getGhciCxx() ghciCxx} attribute.
+     * @param ghciCxx The value for ghciCxx 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGhciCxx(Supplier<Path> ghciCxx) {
+      this.ghciCxx = Objects.requireNonNull(ghciCxx, "ghciCxx");
+      initBits &= ~INIT_BIT_GHCI_CXX;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractHaskellPlatform#getGhciCc() ghciCc} attribute.
+     * @param ghciCc The value for ghciCc 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGhciCc(Supplier<Path> ghciCc) {
+      this.ghciCc = Objects.requireNonNull(ghciCc, "ghciCc");
+      initBits &= ~INIT_BIT_GHCI_CC;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractHaskellPlatform#getGhciCpp() ghciCpp} attribute.
+     * @param ghciCpp The value for ghciCpp 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGhciCpp(Supplier<Path> ghciCpp) {
+      this.ghciCpp = Objects.requireNonNull(ghciCpp, "ghciCpp");
+      initBits &= ~INIT_BIT_GHCI_CPP;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractHaskellPlatform#getPackageNamePrefix() packageNamePrefix} to packageNamePrefix.
+     * @param packageNamePrefix The value for packageNamePrefix
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackageNamePrefix(String packageNamePrefix) {
+      this.packageNamePrefix = Objects.requireNonNull(packageNamePrefix, "packageNamePrefix");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractHaskellPlatform#getPackageNamePrefix() packageNamePrefix} to packageNamePrefix.
+     * @param packageNamePrefix The value for packageNamePrefix
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackageNamePrefix(Optional<String> packageNamePrefix) {
+      this.packageNamePrefix = packageNamePrefix.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractHaskellPlatform#getCxxPlatform() cxxPlatform} attribute.
+     * @param cxxPlatform The value for cxxPlatform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxPlatform(CxxPlatform cxxPlatform) {
+      this.cxxPlatform = Objects.requireNonNull(cxxPlatform, "cxxPlatform");
+      initBits &= ~INIT_BIT_CXX_PLATFORM;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link HaskellPlatform HaskellPlatform}.
+     * @return An immutable instance of HaskellPlatform
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HaskellPlatform build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new HaskellPlatform(
+          compiler,
+          haddock,
+          haskellVersion,
+          compilerFlags.build(),
+          linker,
+          linkerFlags.build(),
+          packager,
+          shouldCacheLinks,
+          shouldUsedOldBinaryOutputLocation,
+          ghciScriptTemplate,
+          ghciBinutils,
+          ghciGhc,
+          ghciLib,
+          ghciCxx,
+          ghciCc,
+          ghciCpp,
+          packageNamePrefix,
+          cxxPlatform);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_COMPILER) != 0) attributes.add("compiler");
+      if ((initBits & INIT_BIT_HADDOCK) != 0) attributes.add("haddock");
+      if ((initBits & INIT_BIT_HASKELL_VERSION) != 0) attributes.add("haskellVersion");
+      if ((initBits & INIT_BIT_LINKER) != 0) attributes.add("linker");
+      if ((initBits & INIT_BIT_PACKAGER) != 0) attributes.add("packager");
+      if ((initBits & INIT_BIT_SHOULD_CACHE_LINKS) != 0) attributes.add("shouldCacheLinks");
+      if ((initBits & INIT_BIT_GHCI_SCRIPT_TEMPLATE) != 0) attributes.add("ghciScriptTemplate");
+      if ((initBits & INIT_BIT_GHCI_BINUTILS) != 0) attributes.add("ghciBinutils");
+      if ((initBits & INIT_BIT_GHCI_GHC) != 0) attributes.add("ghciGhc");
+      if ((initBits & INIT_BIT_GHCI_LIB) != 0) attributes.add("ghciLib");
+      if ((initBits & INIT_BIT_GHCI_CXX) != 0) attributes.add("ghciCxx");
+      if ((initBits & INIT_BIT_GHCI_CC) != 0) attributes.add("ghciCc");
+      if ((initBits & INIT_BIT_GHCI_CPP) != 0) attributes.add("ghciCpp");
+      if ((initBits & INIT_BIT_CXX_PLATFORM) != 0) attributes.add("cxxPlatform");
+      return "Cannot build HaskellPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
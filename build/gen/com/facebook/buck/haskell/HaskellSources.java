@@ -0,0 +1,205 @@
+package com.facebook.buck.haskell;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Ordering;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractHaskellSources}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code HaskellSources.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractHaskellSources"})
+@Immutable
+public final class HaskellSources extends AbstractHaskellSources {
+  private final ImmutableSortedMap<String, SourcePath> moduleMap;
+
+  private HaskellSources(
+      ImmutableSortedMap<String, SourcePath> moduleMap) {
+    this.moduleMap = moduleMap;
+  }
+
+  /**
+   * @return The value of the {@code moduleMap} attribute
+   */
+  @Override
+  public ImmutableSortedMap<String, SourcePath> getModuleMap() {
+    return moduleMap;
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractHaskellSources#getModuleMap() moduleMap} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the moduleMap map
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellSources withModuleMap(Map<String, ? extends SourcePath> entries) {
+    if (this.moduleMap == entries) return this;
+    ImmutableSortedMap<String, SourcePath> newValue = ImmutableSortedMap.copyOf(entries,
+        Ordering.<String>natural()
+    );
+    return new HaskellSources(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HaskellSources} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HaskellSources
+        && equalTo((HaskellSources) another);
+  }
+
+  private boolean equalTo(HaskellSources another) {
+    return moduleMap.equals(another.moduleMap);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code moduleMap}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + moduleMap.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HaskellSources} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HaskellSources")
+        .omitNullValues()
+        .add("moduleMap", moduleMap)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractHaskellSources} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable HaskellSources instance
+   */
+  static HaskellSources copyOf(AbstractHaskellSources instance) {
+    if (instance instanceof HaskellSources) {
+      return (HaskellSources) instance;
+    }
+    return HaskellSources.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link HaskellSources HaskellSources}.
+   * @return A new HaskellSources builder
+   */
+  public static HaskellSources.Builder builder() {
+    return new HaskellSources.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HaskellSources HaskellSources}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSortedMap.Builder<String, SourcePath> moduleMap = ImmutableSortedMap.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HaskellSources} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HaskellSources instance) {
+      return from((AbstractHaskellSources) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHaskellSources} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractHaskellSources instance) {
+      Objects.requireNonNull(instance, "instance");
+      putAllModuleMap(instance.getModuleMap());
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractHaskellSources#getModuleMap() moduleMap} map.
+     * @param key The key in the moduleMap map
+     * @param value The associated value in the moduleMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putModuleMap(String key, SourcePath value) {
+      this.moduleMap.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractHaskellSources#getModuleMap() moduleMap} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putModuleMap(Map.Entry<String, ? extends SourcePath> entry) {
+      this.moduleMap.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractHaskellSources#getModuleMap() moduleMap} map. Nulls are not permitted
+     * @param moduleMap The entries that will be added to the moduleMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setModuleMap(Map<String, ? extends SourcePath> moduleMap) {
+      this.moduleMap = ImmutableSortedMap.naturalOrder();
+      return putAllModuleMap(moduleMap);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractHaskellSources#getModuleMap() moduleMap} map. Nulls are not permitted
+     * @param moduleMap The entries that will be added to the moduleMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllModuleMap(Map<String, ? extends SourcePath> moduleMap) {
+      this.moduleMap.putAll(moduleMap);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HaskellSources HaskellSources}.
+     * @return An immutable instance of HaskellSources
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HaskellSources build() {
+      return new HaskellSources(moduleMap.build());
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package com.facebook.buck.haskell;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractHaskellVersion}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code HaskellVersion.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code HaskellVersion.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractHaskellVersion"})
+@Immutable
+public final class HaskellVersion extends AbstractHaskellVersion {
+  private final Integer majorVersion;
+
+  private HaskellVersion(Integer majorVersion) {
+    this.majorVersion = Objects.requireNonNull(majorVersion, "majorVersion");
+  }
+
+  private HaskellVersion(HaskellVersion original, Integer majorVersion) {
+    this.majorVersion = majorVersion;
+  }
+
+  /**
+   * @return The value of the {@code majorVersion} attribute
+   */
+  @Override
+  public Integer getMajorVersion() {
+    return majorVersion;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHaskellVersion#getMajorVersion() majorVersion} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for majorVersion
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellVersion withMajorVersion(Integer value) {
+    if (this.majorVersion.equals(value)) return this;
+    Integer newValue = Objects.requireNonNull(value, "majorVersion");
+    return new HaskellVersion(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HaskellVersion} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HaskellVersion
+        && equalTo((HaskellVersion) another);
+  }
+
+  private boolean equalTo(HaskellVersion another) {
+    return majorVersion.equals(another.majorVersion);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code majorVersion}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + majorVersion.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code HaskellVersion} instance.
+   * @param majorVersion The value for the {@code majorVersion} attribute
+   * @return An immutable HaskellVersion instance
+   */
+  public static HaskellVersion of(Integer majorVersion) {
+    return new HaskellVersion(majorVersion);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractHaskellVersion} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable HaskellVersion instance
+   */
+  static HaskellVersion copyOf(AbstractHaskellVersion instance) {
+    if (instance instanceof HaskellVersion) {
+      return (HaskellVersion) instance;
+    }
+    return HaskellVersion.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link HaskellVersion HaskellVersion}.
+   * @return A new HaskellVersion builder
+   */
+  public static HaskellVersion.Builder builder() {
+    return new HaskellVersion.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HaskellVersion HaskellVersion}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_MAJOR_VERSION = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable Integer majorVersion;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HaskellVersion} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HaskellVersion instance) {
+      return from((AbstractHaskellVersion) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHaskellVersion} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractHaskellVersion instance) {
+      Objects.requireNonNull(instance, "instance");
+      setMajorVersion(instance.getMajorVersion());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractHaskellVersion#getMajorVersion() majorVersion} attribute.
+     * @param majorVersion The value for majorVersion 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMajorVersion(Integer majorVersion) {
+      this.majorVersion = Objects.requireNonNull(majorVersion, "majorVersion");
+      initBits &= ~INIT_BIT_MAJOR_VERSION;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link HaskellVersion HaskellVersion}.
+     * @return An immutable instance of HaskellVersion
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HaskellVersion build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new HaskellVersion(null, majorVersion);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_MAJOR_VERSION) != 0) attributes.add("majorVersion");
+      return "Cannot build HaskellVersion, some of required attributes are not set " + attributes;
+    }
+  }
+}
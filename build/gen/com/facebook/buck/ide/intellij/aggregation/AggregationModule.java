@@ -0,0 +1,431 @@
+package com.facebook.buck.ide.intellij.aggregation;
+
+import com.facebook.buck.ide.intellij.model.IjModuleType;
+import com.facebook.buck.rules.TargetNode;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Represents a module during aggregation.
+ * <p>This module is used only for aggregation and discarded after. It contains a minimal
+ * information necessary to create {@link IjModule}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAggregationModule"})
+@Immutable
+public final class AggregationModule
+    extends AbstractAggregationModule {
+  private final ImmutableSet<TargetNode> targets;
+  private final Path moduleBasePath;
+  private final String aggregationTag;
+  private final IjModuleType moduleType;
+  private final ImmutableSet<Path> excludes;
+
+  private AggregationModule(
+      ImmutableSet<TargetNode> targets,
+      Path moduleBasePath,
+      String aggregationTag,
+      IjModuleType moduleType,
+      ImmutableSet<Path> excludes) {
+    this.targets = targets;
+    this.moduleBasePath = moduleBasePath;
+    this.aggregationTag = aggregationTag;
+    this.moduleType = moduleType;
+    this.excludes = excludes;
+  }
+
+  /**
+   * @return The value of the {@code targets} attribute
+   */
+  @Override
+  public ImmutableSet<TargetNode> getTargets() {
+    return targets;
+  }
+
+  /**
+   * @return path to the top-most directory the module is responsible for. This is also where the
+   *     corresponding .iml file is located.
+   */
+  @Override
+  public Path getModuleBasePath() {
+    return moduleBasePath;
+  }
+
+  /**
+   * Uniquely identifies the type of this module for aggregation purpose.
+   * <p>Modules with the same aggregation tag can be aggregated into one module.
+   */
+  @Override
+  public String getAggregationTag() {
+    return aggregationTag;
+  }
+
+  /**
+   * @return The value of the {@code moduleType} attribute
+   */
+  @Override
+  public IjModuleType getModuleType() {
+    return moduleType;
+  }
+
+  /**
+   *A set of paths that need to be excluded from the final {@link IjModule}. 
+   */
+  @Override
+  public ImmutableSet<Path> getExcludes() {
+    return excludes;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAggregationModule#getTargets() targets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AggregationModule withTargets(TargetNode... elements) {
+    ImmutableSet<TargetNode> newValue = ImmutableSet.copyOf(elements);
+    return new AggregationModule(newValue, this.moduleBasePath, this.aggregationTag, this.moduleType, this.excludes);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAggregationModule#getTargets() targets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of targets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AggregationModule withTargets(Iterable<? extends TargetNode> elements) {
+    if (this.targets == elements) return this;
+    ImmutableSet<TargetNode> newValue = ImmutableSet.copyOf(elements);
+    return new AggregationModule(newValue, this.moduleBasePath, this.aggregationTag, this.moduleType, this.excludes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAggregationModule#getModuleBasePath() moduleBasePath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for moduleBasePath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AggregationModule withModuleBasePath(Path value) {
+    if (this.moduleBasePath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "moduleBasePath");
+    return new AggregationModule(this.targets, newValue, this.aggregationTag, this.moduleType, this.excludes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAggregationModule#getAggregationTag() aggregationTag} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for aggregationTag
+   * @return A modified copy of the {@code this} object
+   */
+  public final AggregationModule withAggregationTag(String value) {
+    if (this.aggregationTag.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "aggregationTag");
+    return new AggregationModule(this.targets, this.moduleBasePath, newValue, this.moduleType, this.excludes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAggregationModule#getModuleType() moduleType} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for moduleType
+   * @return A modified copy of the {@code this} object
+   */
+  public final AggregationModule withModuleType(IjModuleType value) {
+    if (this.moduleType == value) return this;
+    IjModuleType newValue = Objects.requireNonNull(value, "moduleType");
+    return new AggregationModule(this.targets, this.moduleBasePath, this.aggregationTag, newValue, this.excludes);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAggregationModule#getExcludes() excludes}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AggregationModule withExcludes(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new AggregationModule(this.targets, this.moduleBasePath, this.aggregationTag, this.moduleType, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAggregationModule#getExcludes() excludes}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of excludes elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AggregationModule withExcludes(Iterable<? extends Path> elements) {
+    if (this.excludes == elements) return this;
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new AggregationModule(this.targets, this.moduleBasePath, this.aggregationTag, this.moduleType, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AggregationModule} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AggregationModule
+        && equalTo((AggregationModule) another);
+  }
+
+  private boolean equalTo(AggregationModule another) {
+    return targets.equals(another.targets)
+        && moduleBasePath.equals(another.moduleBasePath)
+        && aggregationTag.equals(another.aggregationTag)
+        && moduleType.equals(another.moduleType)
+        && excludes.equals(another.excludes);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code targets}, {@code moduleBasePath}, {@code aggregationTag}, {@code moduleType}, {@code excludes}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + targets.hashCode();
+    h += (h << 5) + moduleBasePath.hashCode();
+    h += (h << 5) + aggregationTag.hashCode();
+    h += (h << 5) + moduleType.hashCode();
+    h += (h << 5) + excludes.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AggregationModule} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AggregationModule")
+        .omitNullValues()
+        .add("targets", targets)
+        .add("moduleBasePath", moduleBasePath)
+        .add("aggregationTag", aggregationTag)
+        .add("moduleType", moduleType)
+        .add("excludes", excludes)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAggregationModule} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AggregationModule instance
+   */
+  static AggregationModule copyOf(AbstractAggregationModule instance) {
+    if (instance instanceof AggregationModule) {
+      return (AggregationModule) instance;
+    }
+    return AggregationModule.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AggregationModule AggregationModule}.
+   * @return A new AggregationModule builder
+   */
+  public static AggregationModule.Builder builder() {
+    return new AggregationModule.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AggregationModule AggregationModule}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_MODULE_BASE_PATH = 0x1L;
+    private static final long INIT_BIT_AGGREGATION_TAG = 0x2L;
+    private static final long INIT_BIT_MODULE_TYPE = 0x4L;
+    private long initBits = 0x7L;
+
+    private ImmutableSet.Builder<TargetNode> targets = ImmutableSet.builder();
+    private @Nullable Path moduleBasePath;
+    private @Nullable String aggregationTag;
+    private @Nullable IjModuleType moduleType;
+    private ImmutableSet.Builder<Path> excludes = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AggregationModule} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AggregationModule instance) {
+      return from((AbstractAggregationModule) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAggregationModule} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractAggregationModule instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllTargets(instance.getTargets());
+      setModuleBasePath(instance.getModuleBasePath());
+      setAggregationTag(instance.getAggregationTag());
+      setModuleType(instance.getModuleType());
+      addAllExcludes(instance.getExcludes());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAggregationModule#getTargets() targets} set.
+     * @param element A targets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTargets(TargetNode element) {
+      this.targets.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAggregationModule#getTargets() targets} set.
+     * @param elements An array of targets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTargets(TargetNode... elements) {
+      this.targets.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAggregationModule#getTargets() targets} set.
+     * @param elements An iterable of targets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTargets(Iterable<? extends TargetNode> elements) {
+      this.targets = ImmutableSet.builder();
+      return addAllTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAggregationModule#getTargets() targets} set.
+     * @param elements An iterable of targets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTargets(Iterable<? extends TargetNode> elements) {
+      this.targets.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAggregationModule#getModuleBasePath() moduleBasePath} attribute.
+     * @param moduleBasePath The value for moduleBasePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setModuleBasePath(Path moduleBasePath) {
+      this.moduleBasePath = Objects.requireNonNull(moduleBasePath, "moduleBasePath");
+      initBits &= ~INIT_BIT_MODULE_BASE_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAggregationModule#getAggregationTag() aggregationTag} attribute.
+     * @param aggregationTag The value for aggregationTag 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAggregationTag(String aggregationTag) {
+      this.aggregationTag = Objects.requireNonNull(aggregationTag, "aggregationTag");
+      initBits &= ~INIT_BIT_AGGREGATION_TAG;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAggregationModule#getModuleType() moduleType} attribute.
+     * @param moduleType The value for moduleType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setModuleType(IjModuleType moduleType) {
+      this.moduleType = Objects.requireNonNull(moduleType, "moduleType");
+      initBits &= ~INIT_BIT_MODULE_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractAggregationModule#getExcludes() excludes} set.
+     * @param element A excludes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExcludes(Path element) {
+      this.excludes.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAggregationModule#getExcludes() excludes} set.
+     * @param elements An array of excludes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExcludes(Path... elements) {
+      this.excludes.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAggregationModule#getExcludes() excludes} set.
+     * @param elements An iterable of excludes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExcludes(Iterable<? extends Path> elements) {
+      this.excludes = ImmutableSet.builder();
+      return addAllExcludes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAggregationModule#getExcludes() excludes} set.
+     * @param elements An iterable of excludes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExcludes(Iterable<? extends Path> elements) {
+      this.excludes.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AggregationModule AggregationModule}.
+     * @return An immutable instance of AggregationModule
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AggregationModule build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AggregationModule(targets.build(), moduleBasePath, aggregationTag, moduleType, excludes.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_MODULE_BASE_PATH) != 0) attributes.add("moduleBasePath");
+      if ((initBits & INIT_BIT_AGGREGATION_TAG) != 0) attributes.add("aggregationTag");
+      if ((initBits & INIT_BIT_MODULE_TYPE) != 0) attributes.add("moduleType");
+      return "Cannot build AggregationModule, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,625 @@
+package com.facebook.buck.ide.intellij.model;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Represents a prebuilt library (.jar or .aar) as seen by IntelliJ. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractIjLibrary"})
+@Immutable
+public final class IjLibrary extends AbstractIjLibrary {
+  private final String name;
+  private final ImmutableSet<BuildTarget> targets;
+  private final ImmutableSet<Path> binaryJars;
+  private final ImmutableSet<Path> classPaths;
+  private final ImmutableSet<Path> sourceJars;
+  private final ImmutableSet<String> javadocUrls;
+
+  private IjLibrary(
+      String name,
+      ImmutableSet<BuildTarget> targets,
+      ImmutableSet<Path> binaryJars,
+      ImmutableSet<Path> classPaths,
+      ImmutableSet<Path> sourceJars,
+      ImmutableSet<String> javadocUrls) {
+    this.name = name;
+    this.targets = targets;
+    this.binaryJars = binaryJars;
+    this.classPaths = classPaths;
+    this.sourceJars = sourceJars;
+    this.javadocUrls = javadocUrls;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code targets} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getTargets() {
+    return targets;
+  }
+
+  /**
+   *@return path to the binary (.jar or .aar) the library represents. 
+   */
+  @Override
+  public ImmutableSet<Path> getBinaryJars() {
+    return binaryJars;
+  }
+
+  /**
+   *@return classPath paths 
+   */
+  @Override
+  public ImmutableSet<Path> getClassPaths() {
+    return classPaths;
+  }
+
+  /**
+   *@return path to the jar containing sources for the library. 
+   */
+  @Override
+  public ImmutableSet<Path> getSourceJars() {
+    return sourceJars;
+  }
+
+  /**
+   *@return url to the javadoc. 
+   */
+  @Override
+  public ImmutableSet<String> getJavadocUrls() {
+    return javadocUrls;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjLibrary#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjLibrary withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return validate(new IjLibrary(newValue, this.targets, this.binaryJars, this.classPaths, this.sourceJars, this.javadocUrls));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjLibrary#getTargets() targets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjLibrary withTargets(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjLibrary(this.name, newValue, this.binaryJars, this.classPaths, this.sourceJars, this.javadocUrls));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjLibrary#getTargets() targets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of targets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjLibrary withTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.targets == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjLibrary(this.name, newValue, this.binaryJars, this.classPaths, this.sourceJars, this.javadocUrls));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjLibrary#getBinaryJars() binaryJars}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjLibrary withBinaryJars(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjLibrary(this.name, this.targets, newValue, this.classPaths, this.sourceJars, this.javadocUrls));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjLibrary#getBinaryJars() binaryJars}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of binaryJars elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjLibrary withBinaryJars(Iterable<? extends Path> elements) {
+    if (this.binaryJars == elements) return this;
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjLibrary(this.name, this.targets, newValue, this.classPaths, this.sourceJars, this.javadocUrls));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjLibrary#getClassPaths() classPaths}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjLibrary withClassPaths(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjLibrary(this.name, this.targets, this.binaryJars, newValue, this.sourceJars, this.javadocUrls));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjLibrary#getClassPaths() classPaths}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of classPaths elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjLibrary withClassPaths(Iterable<? extends Path> elements) {
+    if (this.classPaths == elements) return this;
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjLibrary(this.name, this.targets, this.binaryJars, newValue, this.sourceJars, this.javadocUrls));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjLibrary#getSourceJars() sourceJars}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjLibrary withSourceJars(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjLibrary(this.name, this.targets, this.binaryJars, this.classPaths, newValue, this.javadocUrls));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjLibrary#getSourceJars() sourceJars}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of sourceJars elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjLibrary withSourceJars(Iterable<? extends Path> elements) {
+    if (this.sourceJars == elements) return this;
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjLibrary(this.name, this.targets, this.binaryJars, this.classPaths, newValue, this.javadocUrls));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjLibrary#getJavadocUrls() javadocUrls}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjLibrary withJavadocUrls(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjLibrary(this.name, this.targets, this.binaryJars, this.classPaths, this.sourceJars, newValue));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjLibrary#getJavadocUrls() javadocUrls}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of javadocUrls elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjLibrary withJavadocUrls(Iterable<String> elements) {
+    if (this.javadocUrls == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjLibrary(this.name, this.targets, this.binaryJars, this.classPaths, this.sourceJars, newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code IjLibrary} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof IjLibrary
+        && equalTo((IjLibrary) another);
+  }
+
+  private boolean equalTo(IjLibrary another) {
+    return name.equals(another.name)
+        && targets.equals(another.targets)
+        && binaryJars.equals(another.binaryJars)
+        && classPaths.equals(another.classPaths)
+        && sourceJars.equals(another.sourceJars)
+        && javadocUrls.equals(another.javadocUrls);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code targets}, {@code binaryJars}, {@code classPaths}, {@code sourceJars}, {@code javadocUrls}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + targets.hashCode();
+    h += (h << 5) + binaryJars.hashCode();
+    h += (h << 5) + classPaths.hashCode();
+    h += (h << 5) + sourceJars.hashCode();
+    h += (h << 5) + javadocUrls.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code IjLibrary} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IjLibrary")
+        .omitNullValues()
+        .add("name", name)
+        .add("targets", targets)
+        .add("binaryJars", binaryJars)
+        .add("classPaths", classPaths)
+        .add("sourceJars", sourceJars)
+        .add("javadocUrls", javadocUrls)
+        .toString();
+  }
+
+
+  private static IjLibrary validate(IjLibrary instance) {
+    instance.eitherBinaryJarOrClassPathPresent();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractIjLibrary} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable IjLibrary instance
+   */
+  static IjLibrary copyOf(AbstractIjLibrary instance) {
+    if (instance instanceof IjLibrary) {
+      return (IjLibrary) instance;
+    }
+    return IjLibrary.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link IjLibrary IjLibrary}.
+   * @return A new IjLibrary builder
+   */
+  public static IjLibrary.Builder builder() {
+    return new IjLibrary.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link IjLibrary IjLibrary}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String name;
+    private ImmutableSet.Builder<BuildTarget> targets = ImmutableSet.builder();
+    private ImmutableSet.Builder<Path> binaryJars = ImmutableSet.builder();
+    private ImmutableSet.Builder<Path> classPaths = ImmutableSet.builder();
+    private ImmutableSet.Builder<Path> sourceJars = ImmutableSet.builder();
+    private ImmutableSet.Builder<String> javadocUrls = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.ide.intellij.model.IjProjectElement} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(IjProjectElement instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code IjLibrary} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(IjLibrary instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractIjLibrary} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractIjLibrary instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof IjProjectElement) {
+        IjProjectElement instance = (IjProjectElement) object;
+        if ((bits & 0x1L) == 0) {
+          setName(instance.getName());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          addAllTargets(instance.getTargets());
+          bits |= 0x2L;
+        }
+      }
+      if (object instanceof AbstractIjLibrary) {
+        AbstractIjLibrary instance = (AbstractIjLibrary) object;
+        addAllClassPaths(instance.getClassPaths());
+        if ((bits & 0x1L) == 0) {
+          setName(instance.getName());
+          bits |= 0x1L;
+        }
+        addAllBinaryJars(instance.getBinaryJars());
+        if ((bits & 0x2L) == 0) {
+          addAllTargets(instance.getTargets());
+          bits |= 0x2L;
+        }
+        addAllJavadocUrls(instance.getJavadocUrls());
+        addAllSourceJars(instance.getSourceJars());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjLibrary#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractIjLibrary#getTargets() targets} set.
+     * @param element A targets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTargets(BuildTarget element) {
+      this.targets.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjLibrary#getTargets() targets} set.
+     * @param elements An array of targets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTargets(BuildTarget... elements) {
+      this.targets.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjLibrary#getTargets() targets} set.
+     * @param elements An iterable of targets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTargets(Iterable<? extends BuildTarget> elements) {
+      this.targets = ImmutableSet.builder();
+      return addAllTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjLibrary#getTargets() targets} set.
+     * @param elements An iterable of targets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTargets(Iterable<? extends BuildTarget> elements) {
+      this.targets.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractIjLibrary#getBinaryJars() binaryJars} set.
+     * @param element A binaryJars element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBinaryJars(Path element) {
+      this.binaryJars.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjLibrary#getBinaryJars() binaryJars} set.
+     * @param elements An array of binaryJars elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBinaryJars(Path... elements) {
+      this.binaryJars.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjLibrary#getBinaryJars() binaryJars} set.
+     * @param elements An iterable of binaryJars elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBinaryJars(Iterable<? extends Path> elements) {
+      this.binaryJars = ImmutableSet.builder();
+      return addAllBinaryJars(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjLibrary#getBinaryJars() binaryJars} set.
+     * @param elements An iterable of binaryJars elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllBinaryJars(Iterable<? extends Path> elements) {
+      this.binaryJars.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractIjLibrary#getClassPaths() classPaths} set.
+     * @param element A classPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addClassPaths(Path element) {
+      this.classPaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjLibrary#getClassPaths() classPaths} set.
+     * @param elements An array of classPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addClassPaths(Path... elements) {
+      this.classPaths.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjLibrary#getClassPaths() classPaths} set.
+     * @param elements An iterable of classPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setClassPaths(Iterable<? extends Path> elements) {
+      this.classPaths = ImmutableSet.builder();
+      return addAllClassPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjLibrary#getClassPaths() classPaths} set.
+     * @param elements An iterable of classPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllClassPaths(Iterable<? extends Path> elements) {
+      this.classPaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractIjLibrary#getSourceJars() sourceJars} set.
+     * @param element A sourceJars element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSourceJars(Path element) {
+      this.sourceJars.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjLibrary#getSourceJars() sourceJars} set.
+     * @param elements An array of sourceJars elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSourceJars(Path... elements) {
+      this.sourceJars.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjLibrary#getSourceJars() sourceJars} set.
+     * @param elements An iterable of sourceJars elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourceJars(Iterable<? extends Path> elements) {
+      this.sourceJars = ImmutableSet.builder();
+      return addAllSourceJars(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjLibrary#getSourceJars() sourceJars} set.
+     * @param elements An iterable of sourceJars elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSourceJars(Iterable<? extends Path> elements) {
+      this.sourceJars.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractIjLibrary#getJavadocUrls() javadocUrls} set.
+     * @param element A javadocUrls element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addJavadocUrls(String element) {
+      this.javadocUrls.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjLibrary#getJavadocUrls() javadocUrls} set.
+     * @param elements An array of javadocUrls elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addJavadocUrls(String... elements) {
+      this.javadocUrls.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjLibrary#getJavadocUrls() javadocUrls} set.
+     * @param elements An iterable of javadocUrls elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavadocUrls(Iterable<String> elements) {
+      this.javadocUrls = ImmutableSet.builder();
+      return addAllJavadocUrls(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjLibrary#getJavadocUrls() javadocUrls} set.
+     * @param elements An iterable of javadocUrls elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllJavadocUrls(Iterable<String> elements) {
+      this.javadocUrls.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link IjLibrary IjLibrary}.
+     * @return An immutable instance of IjLibrary
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public IjLibrary build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return IjLibrary.validate(new IjLibrary(
+          name,
+          targets.build(),
+          binaryJars.build(),
+          classPaths.build(),
+          sourceJars.build(),
+          javadocUrls.build()));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build IjLibrary, some of required attributes are not set " + attributes;
+    }
+  }
+}
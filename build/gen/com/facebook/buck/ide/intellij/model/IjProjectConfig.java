@@ -0,0 +1,3291 @@
+package com.facebook.buck.ide.intellij.model;
+
+import com.facebook.buck.config.BuckConfig;
+import com.facebook.buck.ide.intellij.IjProjectPaths;
+import com.facebook.buck.ide.intellij.aggregation.AggregationMode;
+import com.facebook.buck.jvm.java.JavaBuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractIjProjectConfig}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code IjProjectConfig.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractIjProjectConfig"})
+@Immutable
+public final class IjProjectConfig extends AbstractIjProjectConfig {
+  private final JavaBuckConfig javaBuckConfig;
+  private final BuckConfig buckConfig;
+  private final boolean autogenerateAndroidFacetSourcesEnabled;
+  private final @Nullable String projectJdkName;
+  private final @Nullable String projectJdkType;
+  private final @Nullable String androidModuleSdkName;
+  private final @Nullable String androidModuleSdkType;
+  private final @Nullable String intellijModuleSdkName;
+  private final ImmutableSet<String> intellijPluginLabels;
+  private final @Nullable String javaModuleSdkName;
+  private final @Nullable String javaModuleSdkType;
+  private final @Nullable String projectLanguageLevel;
+  private final ImmutableList<String> excludedResourcePaths;
+  private final ImmutableMap<String, String> labelToGeneratedSourcesMap;
+  private final @Nullable Path androidManifest;
+  private final boolean cleanerEnabled;
+  private final boolean removingUnusedLibrariesEnabled;
+  private final boolean excludeArtifactsEnabled;
+  private final boolean includeTransitiveDependency;
+  private final boolean skipBuildEnabled;
+  private final AggregationMode aggregationMode;
+  private final @Nullable String generatedFilesListFilename;
+  private final String moduleGroupName;
+  private final String projectRoot;
+  private final IjProjectPaths projectPaths;
+  private final boolean aggregatingAndroidResourceModulesEnabled;
+  private final ImmutableSet<String> ignoredTargetLabels;
+  private final int aggregationLimitForAndroidResourceModule;
+  private final boolean generatingAndroidManifestEnabled;
+  private final @Nullable String outputUrl;
+  private final @Nullable Path extraCompilerOutputModulesPath;
+
+  private IjProjectConfig(IjProjectConfig.Builder builder) {
+    this.javaBuckConfig = builder.javaBuckConfig;
+    this.buckConfig = builder.buckConfig;
+    this.projectJdkName = builder.projectJdkName;
+    this.projectJdkType = builder.projectJdkType;
+    this.androidModuleSdkName = builder.androidModuleSdkName;
+    this.androidModuleSdkType = builder.androidModuleSdkType;
+    this.intellijModuleSdkName = builder.intellijModuleSdkName;
+    this.intellijPluginLabels = builder.intellijPluginLabels.build();
+    this.javaModuleSdkName = builder.javaModuleSdkName;
+    this.javaModuleSdkType = builder.javaModuleSdkType;
+    this.projectLanguageLevel = builder.projectLanguageLevel;
+    this.excludedResourcePaths = builder.excludedResourcePaths.build();
+    this.labelToGeneratedSourcesMap = builder.labelToGeneratedSourcesMap.build();
+    this.androidManifest = builder.androidManifest;
+    this.cleanerEnabled = builder.cleanerEnabled;
+    this.removingUnusedLibrariesEnabled = builder.removingUnusedLibrariesEnabled;
+    this.excludeArtifactsEnabled = builder.excludeArtifactsEnabled;
+    this.includeTransitiveDependency = builder.includeTransitiveDependency;
+    this.skipBuildEnabled = builder.skipBuildEnabled;
+    this.aggregationMode = builder.aggregationMode;
+    this.generatedFilesListFilename = builder.generatedFilesListFilename;
+    this.moduleGroupName = builder.moduleGroupName;
+    this.projectRoot = builder.projectRoot;
+    this.projectPaths = builder.projectPaths;
+    this.aggregatingAndroidResourceModulesEnabled = builder.aggregatingAndroidResourceModulesEnabled;
+    this.ignoredTargetLabels = builder.ignoredTargetLabels.build();
+    this.aggregationLimitForAndroidResourceModule = builder.aggregationLimitForAndroidResourceModule;
+    this.generatingAndroidManifestEnabled = builder.generatingAndroidManifestEnabled;
+    this.outputUrl = builder.outputUrl;
+    this.extraCompilerOutputModulesPath = builder.extraCompilerOutputModulesPath;
+    this.autogenerateAndroidFacetSourcesEnabled = builder.autogenerateAndroidFacetSourcesEnabledIsSet()
+        ? builder.autogenerateAndroidFacetSourcesEnabled
+        : super.isAutogenerateAndroidFacetSourcesEnabled();
+  }
+
+  private IjProjectConfig(
+      JavaBuckConfig javaBuckConfig,
+      BuckConfig buckConfig,
+      boolean autogenerateAndroidFacetSourcesEnabled,
+      @Nullable String projectJdkName,
+      @Nullable String projectJdkType,
+      @Nullable String androidModuleSdkName,
+      @Nullable String androidModuleSdkType,
+      @Nullable String intellijModuleSdkName,
+      ImmutableSet<String> intellijPluginLabels,
+      @Nullable String javaModuleSdkName,
+      @Nullable String javaModuleSdkType,
+      @Nullable String projectLanguageLevel,
+      ImmutableList<String> excludedResourcePaths,
+      ImmutableMap<String, String> labelToGeneratedSourcesMap,
+      @Nullable Path androidManifest,
+      boolean cleanerEnabled,
+      boolean removingUnusedLibrariesEnabled,
+      boolean excludeArtifactsEnabled,
+      boolean includeTransitiveDependency,
+      boolean skipBuildEnabled,
+      AggregationMode aggregationMode,
+      @Nullable String generatedFilesListFilename,
+      String moduleGroupName,
+      String projectRoot,
+      IjProjectPaths projectPaths,
+      boolean aggregatingAndroidResourceModulesEnabled,
+      ImmutableSet<String> ignoredTargetLabels,
+      int aggregationLimitForAndroidResourceModule,
+      boolean generatingAndroidManifestEnabled,
+      @Nullable String outputUrl,
+      @Nullable Path extraCompilerOutputModulesPath) {
+    this.javaBuckConfig = javaBuckConfig;
+    this.buckConfig = buckConfig;
+    this.autogenerateAndroidFacetSourcesEnabled = autogenerateAndroidFacetSourcesEnabled;
+    this.projectJdkName = projectJdkName;
+    this.projectJdkType = projectJdkType;
+    this.androidModuleSdkName = androidModuleSdkName;
+    this.androidModuleSdkType = androidModuleSdkType;
+    this.intellijModuleSdkName = intellijModuleSdkName;
+    this.intellijPluginLabels = intellijPluginLabels;
+    this.javaModuleSdkName = javaModuleSdkName;
+    this.javaModuleSdkType = javaModuleSdkType;
+    this.projectLanguageLevel = projectLanguageLevel;
+    this.excludedResourcePaths = excludedResourcePaths;
+    this.labelToGeneratedSourcesMap = labelToGeneratedSourcesMap;
+    this.androidManifest = androidManifest;
+    this.cleanerEnabled = cleanerEnabled;
+    this.removingUnusedLibrariesEnabled = removingUnusedLibrariesEnabled;
+    this.excludeArtifactsEnabled = excludeArtifactsEnabled;
+    this.includeTransitiveDependency = includeTransitiveDependency;
+    this.skipBuildEnabled = skipBuildEnabled;
+    this.aggregationMode = aggregationMode;
+    this.generatedFilesListFilename = generatedFilesListFilename;
+    this.moduleGroupName = moduleGroupName;
+    this.projectRoot = projectRoot;
+    this.projectPaths = projectPaths;
+    this.aggregatingAndroidResourceModulesEnabled = aggregatingAndroidResourceModulesEnabled;
+    this.ignoredTargetLabels = ignoredTargetLabels;
+    this.aggregationLimitForAndroidResourceModule = aggregationLimitForAndroidResourceModule;
+    this.generatingAndroidManifestEnabled = generatingAndroidManifestEnabled;
+    this.outputUrl = outputUrl;
+    this.extraCompilerOutputModulesPath = extraCompilerOutputModulesPath;
+  }
+
+  /**
+   * @return The value of the {@code javaBuckConfig} attribute
+   */
+  @Override
+  public JavaBuckConfig getJavaBuckConfig() {
+    return javaBuckConfig;
+  }
+
+  /**
+   * @return The value of the {@code buckConfig} attribute
+   */
+  @Override
+  public BuckConfig getBuckConfig() {
+    return buckConfig;
+  }
+
+  /**
+   * @return The value of the {@code autogenerateAndroidFacetSourcesEnabled} attribute
+   */
+  @Override
+  public boolean isAutogenerateAndroidFacetSourcesEnabled() {
+    return autogenerateAndroidFacetSourcesEnabled;
+  }
+
+  /**
+   * @return The value of the {@code projectJdkName} attribute
+   */
+  @Override
+  public Optional<String> getProjectJdkName() {
+    return Optional.ofNullable(projectJdkName);
+  }
+
+  /**
+   * @return The value of the {@code projectJdkType} attribute
+   */
+  @Override
+  public Optional<String> getProjectJdkType() {
+    return Optional.ofNullable(projectJdkType);
+  }
+
+  /**
+   * @return The value of the {@code androidModuleSdkName} attribute
+   */
+  @Override
+  public Optional<String> getAndroidModuleSdkName() {
+    return Optional.ofNullable(androidModuleSdkName);
+  }
+
+  /**
+   * @return The value of the {@code androidModuleSdkType} attribute
+   */
+  @Override
+  public Optional<String> getAndroidModuleSdkType() {
+    return Optional.ofNullable(androidModuleSdkType);
+  }
+
+  /**
+   * @return The value of the {@code intellijModuleSdkName} attribute
+   */
+  @Override
+  public Optional<String> getIntellijModuleSdkName() {
+    return Optional.ofNullable(intellijModuleSdkName);
+  }
+
+  /**
+   * @return The value of the {@code intellijPluginLabels} attribute
+   */
+  @Override
+  public ImmutableSet<String> getIntellijPluginLabels() {
+    return intellijPluginLabels;
+  }
+
+  /**
+   * @return The value of the {@code javaModuleSdkName} attribute
+   */
+  @Override
+  public Optional<String> getJavaModuleSdkName() {
+    return Optional.ofNullable(javaModuleSdkName);
+  }
+
+  /**
+   * @return The value of the {@code javaModuleSdkType} attribute
+   */
+  @Override
+  public Optional<String> getJavaModuleSdkType() {
+    return Optional.ofNullable(javaModuleSdkType);
+  }
+
+  /**
+   * @return The value of the {@code projectLanguageLevel} attribute
+   */
+  @Override
+  public Optional<String> getProjectLanguageLevel() {
+    return Optional.ofNullable(projectLanguageLevel);
+  }
+
+  /**
+   * @return The value of the {@code excludedResourcePaths} attribute
+   */
+  @Override
+  public ImmutableList<String> getExcludedResourcePaths() {
+    return excludedResourcePaths;
+  }
+
+  /**
+   * @return The value of the {@code labelToGeneratedSourcesMap} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getLabelToGeneratedSourcesMap() {
+    return labelToGeneratedSourcesMap;
+  }
+
+  /**
+   * @return The value of the {@code androidManifest} attribute
+   */
+  @Override
+  public Optional<Path> getAndroidManifest() {
+    return Optional.ofNullable(androidManifest);
+  }
+
+  /**
+   * @return The value of the {@code cleanerEnabled} attribute
+   */
+  @Override
+  public boolean isCleanerEnabled() {
+    return cleanerEnabled;
+  }
+
+  /**
+   * @return The value of the {@code removingUnusedLibrariesEnabled} attribute
+   */
+  @Override
+  public boolean isRemovingUnusedLibrariesEnabled() {
+    return removingUnusedLibrariesEnabled;
+  }
+
+  /**
+   * @return The value of the {@code excludeArtifactsEnabled} attribute
+   */
+  @Override
+  public boolean isExcludeArtifactsEnabled() {
+    return excludeArtifactsEnabled;
+  }
+
+  /**
+   * @return The value of the {@code includeTransitiveDependency} attribute
+   */
+  @Override
+  public boolean isIncludeTransitiveDependency() {
+    return includeTransitiveDependency;
+  }
+
+  /**
+   * @return The value of the {@code skipBuildEnabled} attribute
+   */
+  @Override
+  public boolean isSkipBuildEnabled() {
+    return skipBuildEnabled;
+  }
+
+  /**
+   * @return The value of the {@code aggregationMode} attribute
+   */
+  @Override
+  public AggregationMode getAggregationMode() {
+    return aggregationMode;
+  }
+
+  /**
+   * @return The value of the {@code generatedFilesListFilename} attribute
+   */
+  @Override
+  public Optional<String> getGeneratedFilesListFilename() {
+    return Optional.ofNullable(generatedFilesListFilename);
+  }
+
+  /**
+   * @return The value of the {@code moduleGroupName} attribute
+   */
+  @Override
+  public String getModuleGroupName() {
+    return moduleGroupName;
+  }
+
+  /**
+   * @return The value of the {@code projectRoot} attribute
+   */
+  @Override
+  public String getProjectRoot() {
+    return projectRoot;
+  }
+
+  /**
+   * @return The value of the {@code projectPaths} attribute
+   */
+  @Override
+  public IjProjectPaths getProjectPaths() {
+    return projectPaths;
+  }
+
+  /**
+   * @return The value of the {@code aggregatingAndroidResourceModulesEnabled} attribute
+   */
+  @Override
+  public boolean isAggregatingAndroidResourceModulesEnabled() {
+    return aggregatingAndroidResourceModulesEnabled;
+  }
+
+  /**
+   *Labels that indicate targets that need to be ignored during project generation. 
+   */
+  @Override
+  public ImmutableSet<String> getIgnoredTargetLabels() {
+    return ignoredTargetLabels;
+  }
+
+  /**
+   * @return The value of the {@code aggregationLimitForAndroidResourceModule} attribute
+   */
+  @Override
+  public int getAggregationLimitForAndroidResourceModule() {
+    return aggregationLimitForAndroidResourceModule;
+  }
+
+  /**
+   * @return The value of the {@code generatingAndroidManifestEnabled} attribute
+   */
+  @Override
+  public boolean isGeneratingAndroidManifestEnabled() {
+    return generatingAndroidManifestEnabled;
+  }
+
+  /**
+   * @return The value of the {@code outputUrl} attribute
+   */
+  @Override
+  public Optional<String> getOutputUrl() {
+    return Optional.ofNullable(outputUrl);
+  }
+
+  /**
+   * @return The value of the {@code extraCompilerOutputModulesPath} attribute
+   */
+  @Override
+  public Optional<Path> getExtraCompilerOutputModulesPath() {
+    return Optional.ofNullable(extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#getJavaBuckConfig() javaBuckConfig} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for javaBuckConfig
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withJavaBuckConfig(JavaBuckConfig value) {
+    if (this.javaBuckConfig == value) return this;
+    JavaBuckConfig newValue = Objects.requireNonNull(value, "javaBuckConfig");
+    return new IjProjectConfig(
+        newValue,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#getBuckConfig() buckConfig} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckConfig
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withBuckConfig(BuckConfig value) {
+    if (this.buckConfig == value) return this;
+    BuckConfig newValue = Objects.requireNonNull(value, "buckConfig");
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        newValue,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#isAutogenerateAndroidFacetSourcesEnabled() autogenerateAndroidFacetSourcesEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for autogenerateAndroidFacetSourcesEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withAutogenerateAndroidFacetSourcesEnabled(boolean value) {
+    if (this.autogenerateAndroidFacetSourcesEnabled == value) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        value,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getProjectJdkName() projectJdkName} attribute.
+   * @param value The value for projectJdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withProjectJdkName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "projectJdkName");
+    if (Objects.equals(this.projectJdkName, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        newValue,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getProjectJdkName() projectJdkName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for projectJdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withProjectJdkName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.projectJdkName, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        value,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getProjectJdkType() projectJdkType} attribute.
+   * @param value The value for projectJdkType
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withProjectJdkType(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "projectJdkType");
+    if (Objects.equals(this.projectJdkType, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        newValue,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getProjectJdkType() projectJdkType} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for projectJdkType
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withProjectJdkType(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.projectJdkType, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        value,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getAndroidModuleSdkName() androidModuleSdkName} attribute.
+   * @param value The value for androidModuleSdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withAndroidModuleSdkName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "androidModuleSdkName");
+    if (Objects.equals(this.androidModuleSdkName, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        newValue,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getAndroidModuleSdkName() androidModuleSdkName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for androidModuleSdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withAndroidModuleSdkName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.androidModuleSdkName, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        value,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getAndroidModuleSdkType() androidModuleSdkType} attribute.
+   * @param value The value for androidModuleSdkType
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withAndroidModuleSdkType(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "androidModuleSdkType");
+    if (Objects.equals(this.androidModuleSdkType, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        newValue,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getAndroidModuleSdkType() androidModuleSdkType} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for androidModuleSdkType
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withAndroidModuleSdkType(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.androidModuleSdkType, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        value,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getIntellijModuleSdkName() intellijModuleSdkName} attribute.
+   * @param value The value for intellijModuleSdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withIntellijModuleSdkName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "intellijModuleSdkName");
+    if (Objects.equals(this.intellijModuleSdkName, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        newValue,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getIntellijModuleSdkName() intellijModuleSdkName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for intellijModuleSdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withIntellijModuleSdkName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.intellijModuleSdkName, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        value,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjProjectConfig#getIntellijPluginLabels() intellijPluginLabels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withIntellijPluginLabels(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        newValue,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjProjectConfig#getIntellijPluginLabels() intellijPluginLabels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of intellijPluginLabels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withIntellijPluginLabels(Iterable<String> elements) {
+    if (this.intellijPluginLabels == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        newValue,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getJavaModuleSdkName() javaModuleSdkName} attribute.
+   * @param value The value for javaModuleSdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withJavaModuleSdkName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "javaModuleSdkName");
+    if (Objects.equals(this.javaModuleSdkName, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        newValue,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getJavaModuleSdkName() javaModuleSdkName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for javaModuleSdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withJavaModuleSdkName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.javaModuleSdkName, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        value,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getJavaModuleSdkType() javaModuleSdkType} attribute.
+   * @param value The value for javaModuleSdkType
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withJavaModuleSdkType(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "javaModuleSdkType");
+    if (Objects.equals(this.javaModuleSdkType, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        newValue,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getJavaModuleSdkType() javaModuleSdkType} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for javaModuleSdkType
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withJavaModuleSdkType(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.javaModuleSdkType, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        value,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getProjectLanguageLevel() projectLanguageLevel} attribute.
+   * @param value The value for projectLanguageLevel
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withProjectLanguageLevel(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "projectLanguageLevel");
+    if (Objects.equals(this.projectLanguageLevel, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        newValue,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getProjectLanguageLevel() projectLanguageLevel} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for projectLanguageLevel
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withProjectLanguageLevel(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.projectLanguageLevel, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        value,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjProjectConfig#getExcludedResourcePaths() excludedResourcePaths}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withExcludedResourcePaths(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        newValue,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjProjectConfig#getExcludedResourcePaths() excludedResourcePaths}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of excludedResourcePaths elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withExcludedResourcePaths(Iterable<String> elements) {
+    if (this.excludedResourcePaths == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        newValue,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractIjProjectConfig#getLabelToGeneratedSourcesMap() labelToGeneratedSourcesMap} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the labelToGeneratedSourcesMap map
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withLabelToGeneratedSourcesMap(Map<String, ? extends String> entries) {
+    if (this.labelToGeneratedSourcesMap == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        newValue,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getAndroidManifest() androidManifest} attribute.
+   * @param value The value for androidManifest
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withAndroidManifest(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "androidManifest");
+    if (this.androidManifest == newValue) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        newValue,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getAndroidManifest() androidManifest} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for androidManifest
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withAndroidManifest(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.androidManifest == value) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        value,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#isCleanerEnabled() cleanerEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cleanerEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withCleanerEnabled(boolean value) {
+    if (this.cleanerEnabled == value) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        value,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#isRemovingUnusedLibrariesEnabled() removingUnusedLibrariesEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for removingUnusedLibrariesEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withRemovingUnusedLibrariesEnabled(boolean value) {
+    if (this.removingUnusedLibrariesEnabled == value) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        value,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#isExcludeArtifactsEnabled() excludeArtifactsEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for excludeArtifactsEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withExcludeArtifactsEnabled(boolean value) {
+    if (this.excludeArtifactsEnabled == value) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        value,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#isIncludeTransitiveDependency() includeTransitiveDependency} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for includeTransitiveDependency
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withIncludeTransitiveDependency(boolean value) {
+    if (this.includeTransitiveDependency == value) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        value,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#isSkipBuildEnabled() skipBuildEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for skipBuildEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withSkipBuildEnabled(boolean value) {
+    if (this.skipBuildEnabled == value) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        value,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#getAggregationMode() aggregationMode} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for aggregationMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withAggregationMode(AggregationMode value) {
+    if (this.aggregationMode == value) return this;
+    AggregationMode newValue = Objects.requireNonNull(value, "aggregationMode");
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        newValue,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getGeneratedFilesListFilename() generatedFilesListFilename} attribute.
+   * @param value The value for generatedFilesListFilename
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withGeneratedFilesListFilename(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "generatedFilesListFilename");
+    if (Objects.equals(this.generatedFilesListFilename, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        newValue,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getGeneratedFilesListFilename() generatedFilesListFilename} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for generatedFilesListFilename
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withGeneratedFilesListFilename(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.generatedFilesListFilename, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        value,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#getModuleGroupName() moduleGroupName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for moduleGroupName
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withModuleGroupName(String value) {
+    if (this.moduleGroupName.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "moduleGroupName");
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        newValue,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#getProjectRoot() projectRoot} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectRoot
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withProjectRoot(String value) {
+    if (this.projectRoot.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "projectRoot");
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        newValue,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#getProjectPaths() projectPaths} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectPaths
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withProjectPaths(IjProjectPaths value) {
+    if (this.projectPaths == value) return this;
+    IjProjectPaths newValue = Objects.requireNonNull(value, "projectPaths");
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        newValue,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#isAggregatingAndroidResourceModulesEnabled() aggregatingAndroidResourceModulesEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for aggregatingAndroidResourceModulesEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withAggregatingAndroidResourceModulesEnabled(boolean value) {
+    if (this.aggregatingAndroidResourceModulesEnabled == value) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        value,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjProjectConfig#getIgnoredTargetLabels() ignoredTargetLabels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withIgnoredTargetLabels(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        newValue,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjProjectConfig#getIgnoredTargetLabels() ignoredTargetLabels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of ignoredTargetLabels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withIgnoredTargetLabels(Iterable<String> elements) {
+    if (this.ignoredTargetLabels == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        newValue,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#getAggregationLimitForAndroidResourceModule() aggregationLimitForAndroidResourceModule} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for aggregationLimitForAndroidResourceModule
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withAggregationLimitForAndroidResourceModule(int value) {
+    if (this.aggregationLimitForAndroidResourceModule == value) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        value,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#isGeneratingAndroidManifestEnabled() generatingAndroidManifestEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for generatingAndroidManifestEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withGeneratingAndroidManifestEnabled(boolean value) {
+    if (this.generatingAndroidManifestEnabled == value) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        value,
+        this.outputUrl,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getOutputUrl() outputUrl} attribute.
+   * @param value The value for outputUrl
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withOutputUrl(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "outputUrl");
+    if (Objects.equals(this.outputUrl, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        newValue,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getOutputUrl() outputUrl} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for outputUrl
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withOutputUrl(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.outputUrl, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        value,
+        this.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getExtraCompilerOutputModulesPath() extraCompilerOutputModulesPath} attribute.
+   * @param value The value for extraCompilerOutputModulesPath
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withExtraCompilerOutputModulesPath(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "extraCompilerOutputModulesPath");
+    if (this.extraCompilerOutputModulesPath == newValue) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getExtraCompilerOutputModulesPath() extraCompilerOutputModulesPath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for extraCompilerOutputModulesPath
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withExtraCompilerOutputModulesPath(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.extraCompilerOutputModulesPath == value) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijPluginLabels,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.labelToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.includeTransitiveDependency,
+        this.skipBuildEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename,
+        this.moduleGroupName,
+        this.projectRoot,
+        this.projectPaths,
+        this.aggregatingAndroidResourceModulesEnabled,
+        this.ignoredTargetLabels,
+        this.aggregationLimitForAndroidResourceModule,
+        this.generatingAndroidManifestEnabled,
+        this.outputUrl,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code IjProjectConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof IjProjectConfig
+        && equalTo((IjProjectConfig) another);
+  }
+
+  private boolean equalTo(IjProjectConfig another) {
+    return javaBuckConfig.equals(another.javaBuckConfig)
+        && buckConfig.equals(another.buckConfig)
+        && autogenerateAndroidFacetSourcesEnabled == another.autogenerateAndroidFacetSourcesEnabled
+        && Objects.equals(projectJdkName, another.projectJdkName)
+        && Objects.equals(projectJdkType, another.projectJdkType)
+        && Objects.equals(androidModuleSdkName, another.androidModuleSdkName)
+        && Objects.equals(androidModuleSdkType, another.androidModuleSdkType)
+        && Objects.equals(intellijModuleSdkName, another.intellijModuleSdkName)
+        && intellijPluginLabels.equals(another.intellijPluginLabels)
+        && Objects.equals(javaModuleSdkName, another.javaModuleSdkName)
+        && Objects.equals(javaModuleSdkType, another.javaModuleSdkType)
+        && Objects.equals(projectLanguageLevel, another.projectLanguageLevel)
+        && excludedResourcePaths.equals(another.excludedResourcePaths)
+        && labelToGeneratedSourcesMap.equals(another.labelToGeneratedSourcesMap)
+        && Objects.equals(androidManifest, another.androidManifest)
+        && cleanerEnabled == another.cleanerEnabled
+        && removingUnusedLibrariesEnabled == another.removingUnusedLibrariesEnabled
+        && excludeArtifactsEnabled == another.excludeArtifactsEnabled
+        && includeTransitiveDependency == another.includeTransitiveDependency
+        && skipBuildEnabled == another.skipBuildEnabled
+        && aggregationMode.equals(another.aggregationMode)
+        && Objects.equals(generatedFilesListFilename, another.generatedFilesListFilename)
+        && moduleGroupName.equals(another.moduleGroupName)
+        && projectRoot.equals(another.projectRoot)
+        && projectPaths.equals(another.projectPaths)
+        && aggregatingAndroidResourceModulesEnabled == another.aggregatingAndroidResourceModulesEnabled
+        && ignoredTargetLabels.equals(another.ignoredTargetLabels)
+        && aggregationLimitForAndroidResourceModule == another.aggregationLimitForAndroidResourceModule
+        && generatingAndroidManifestEnabled == another.generatingAndroidManifestEnabled
+        && Objects.equals(outputUrl, another.outputUrl)
+        && Objects.equals(extraCompilerOutputModulesPath, another.extraCompilerOutputModulesPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code javaBuckConfig}, {@code buckConfig}, {@code autogenerateAndroidFacetSourcesEnabled}, {@code projectJdkName}, {@code projectJdkType}, {@code androidModuleSdkName}, {@code androidModuleSdkType}, {@code intellijModuleSdkName}, {@code intellijPluginLabels}, {@code javaModuleSdkName}, {@code javaModuleSdkType}, {@code projectLanguageLevel}, {@code excludedResourcePaths}, {@code labelToGeneratedSourcesMap}, {@code androidManifest}, {@code cleanerEnabled}, {@code removingUnusedLibrariesEnabled}, {@code excludeArtifactsEnabled}, {@code includeTransitiveDependency}, {@code skipBuildEnabled}, {@code aggregationMode}, {@code generatedFilesListFilename}, {@code moduleGroupName}, {@code projectRoot}, {@code projectPaths}, {@code aggregatingAndroidResourceModulesEnabled}, {@code ignoredTargetLabels}, {@code aggregationLimitForAndroidResourceModule}, {@code generatingAndroidManifestEnabled}, {@code outputUrl}, {@code extraCompilerOutputModulesPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + javaBuckConfig.hashCode();
+    h += (h << 5) + buckConfig.hashCode();
+    h += (h << 5) + Booleans.hashCode(autogenerateAndroidFacetSourcesEnabled);
+    h += (h << 5) + Objects.hashCode(projectJdkName);
+    h += (h << 5) + Objects.hashCode(projectJdkType);
+    h += (h << 5) + Objects.hashCode(androidModuleSdkName);
+    h += (h << 5) + Objects.hashCode(androidModuleSdkType);
+    h += (h << 5) + Objects.hashCode(intellijModuleSdkName);
+    h += (h << 5) + intellijPluginLabels.hashCode();
+    h += (h << 5) + Objects.hashCode(javaModuleSdkName);
+    h += (h << 5) + Objects.hashCode(javaModuleSdkType);
+    h += (h << 5) + Objects.hashCode(projectLanguageLevel);
+    h += (h << 5) + excludedResourcePaths.hashCode();
+    h += (h << 5) + labelToGeneratedSourcesMap.hashCode();
+    h += (h << 5) + Objects.hashCode(androidManifest);
+    h += (h << 5) + Booleans.hashCode(cleanerEnabled);
+    h += (h << 5) + Booleans.hashCode(removingUnusedLibrariesEnabled);
+    h += (h << 5) + Booleans.hashCode(excludeArtifactsEnabled);
+    h += (h << 5) + Booleans.hashCode(includeTransitiveDependency);
+    h += (h << 5) + Booleans.hashCode(skipBuildEnabled);
+    h += (h << 5) + aggregationMode.hashCode();
+    h += (h << 5) + Objects.hashCode(generatedFilesListFilename);
+    h += (h << 5) + moduleGroupName.hashCode();
+    h += (h << 5) + projectRoot.hashCode();
+    h += (h << 5) + projectPaths.hashCode();
+    h += (h << 5) + Booleans.hashCode(aggregatingAndroidResourceModulesEnabled);
+    h += (h << 5) + ignoredTargetLabels.hashCode();
+    h += (h << 5) + aggregationLimitForAndroidResourceModule;
+    h += (h << 5) + Booleans.hashCode(generatingAndroidManifestEnabled);
+    h += (h << 5) + Objects.hashCode(outputUrl);
+    h += (h << 5) + Objects.hashCode(extraCompilerOutputModulesPath);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code IjProjectConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IjProjectConfig")
+        .omitNullValues()
+        .add("javaBuckConfig", javaBuckConfig)
+        .add("buckConfig", buckConfig)
+        .add("autogenerateAndroidFacetSourcesEnabled", autogenerateAndroidFacetSourcesEnabled)
+        .add("projectJdkName", projectJdkName)
+        .add("projectJdkType", projectJdkType)
+        .add("androidModuleSdkName", androidModuleSdkName)
+        .add("androidModuleSdkType", androidModuleSdkType)
+        .add("intellijModuleSdkName", intellijModuleSdkName)
+        .add("intellijPluginLabels", intellijPluginLabels)
+        .add("javaModuleSdkName", javaModuleSdkName)
+        .add("javaModuleSdkType", javaModuleSdkType)
+        .add("projectLanguageLevel", projectLanguageLevel)
+        .add("excludedResourcePaths", excludedResourcePaths)
+        .add("labelToGeneratedSourcesMap", labelToGeneratedSourcesMap)
+        .add("androidManifest", androidManifest)
+        .add("cleanerEnabled", cleanerEnabled)
+        .add("removingUnusedLibrariesEnabled", removingUnusedLibrariesEnabled)
+        .add("excludeArtifactsEnabled", excludeArtifactsEnabled)
+        .add("includeTransitiveDependency", includeTransitiveDependency)
+        .add("skipBuildEnabled", skipBuildEnabled)
+        .add("aggregationMode", aggregationMode)
+        .add("generatedFilesListFilename", generatedFilesListFilename)
+        .add("moduleGroupName", moduleGroupName)
+        .add("projectRoot", projectRoot)
+        .add("projectPaths", projectPaths)
+        .add("aggregatingAndroidResourceModulesEnabled", aggregatingAndroidResourceModulesEnabled)
+        .add("ignoredTargetLabels", ignoredTargetLabels)
+        .add("aggregationLimitForAndroidResourceModule", aggregationLimitForAndroidResourceModule)
+        .add("generatingAndroidManifestEnabled", generatingAndroidManifestEnabled)
+        .add("outputUrl", outputUrl)
+        .add("extraCompilerOutputModulesPath", extraCompilerOutputModulesPath)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractIjProjectConfig} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable IjProjectConfig instance
+   */
+  static IjProjectConfig copyOf(AbstractIjProjectConfig instance) {
+    if (instance instanceof IjProjectConfig) {
+      return (IjProjectConfig) instance;
+    }
+    return IjProjectConfig.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link IjProjectConfig IjProjectConfig}.
+   * @return A new IjProjectConfig builder
+   */
+  public static IjProjectConfig.Builder builder() {
+    return new IjProjectConfig.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link IjProjectConfig IjProjectConfig}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_JAVA_BUCK_CONFIG = 0x1L;
+    private static final long INIT_BIT_BUCK_CONFIG = 0x2L;
+    private static final long INIT_BIT_CLEANER_ENABLED = 0x4L;
+    private static final long INIT_BIT_REMOVING_UNUSED_LIBRARIES_ENABLED = 0x8L;
+    private static final long INIT_BIT_EXCLUDE_ARTIFACTS_ENABLED = 0x10L;
+    private static final long INIT_BIT_INCLUDE_TRANSITIVE_DEPENDENCY = 0x20L;
+    private static final long INIT_BIT_SKIP_BUILD_ENABLED = 0x40L;
+    private static final long INIT_BIT_AGGREGATION_MODE = 0x80L;
+    private static final long INIT_BIT_MODULE_GROUP_NAME = 0x100L;
+    private static final long INIT_BIT_PROJECT_ROOT = 0x200L;
+    private static final long INIT_BIT_PROJECT_PATHS = 0x400L;
+    private static final long INIT_BIT_AGGREGATING_ANDROID_RESOURCE_MODULES_ENABLED = 0x800L;
+    private static final long INIT_BIT_AGGREGATION_LIMIT_FOR_ANDROID_RESOURCE_MODULE = 0x1000L;
+    private static final long INIT_BIT_GENERATING_ANDROID_MANIFEST_ENABLED = 0x2000L;
+    private static final long OPT_BIT_AUTOGENERATE_ANDROID_FACET_SOURCES_ENABLED = 0x1L;
+    private long initBits = 0x3fffL;
+    private long optBits;
+
+    private @Nullable JavaBuckConfig javaBuckConfig;
+    private @Nullable BuckConfig buckConfig;
+    private boolean autogenerateAndroidFacetSourcesEnabled;
+    private @Nullable String projectJdkName;
+    private @Nullable String projectJdkType;
+    private @Nullable String androidModuleSdkName;
+    private @Nullable String androidModuleSdkType;
+    private @Nullable String intellijModuleSdkName;
+    private ImmutableSet.Builder<String> intellijPluginLabels = ImmutableSet.builder();
+    private @Nullable String javaModuleSdkName;
+    private @Nullable String javaModuleSdkType;
+    private @Nullable String projectLanguageLevel;
+    private ImmutableList.Builder<String> excludedResourcePaths = ImmutableList.builder();
+    private ImmutableMap.Builder<String, String> labelToGeneratedSourcesMap = ImmutableMap.builder();
+    private @Nullable Path androidManifest;
+    private boolean cleanerEnabled;
+    private boolean removingUnusedLibrariesEnabled;
+    private boolean excludeArtifactsEnabled;
+    private boolean includeTransitiveDependency;
+    private boolean skipBuildEnabled;
+    private @Nullable AggregationMode aggregationMode;
+    private @Nullable String generatedFilesListFilename;
+    private @Nullable String moduleGroupName;
+    private @Nullable String projectRoot;
+    private @Nullable IjProjectPaths projectPaths;
+    private boolean aggregatingAndroidResourceModulesEnabled;
+    private ImmutableSet.Builder<String> ignoredTargetLabels = ImmutableSet.builder();
+    private int aggregationLimitForAndroidResourceModule;
+    private boolean generatingAndroidManifestEnabled;
+    private @Nullable String outputUrl;
+    private @Nullable Path extraCompilerOutputModulesPath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code IjProjectConfig} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(IjProjectConfig instance) {
+      return from((AbstractIjProjectConfig) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractIjProjectConfig} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractIjProjectConfig instance) {
+      Objects.requireNonNull(instance, "instance");
+      setJavaBuckConfig(instance.getJavaBuckConfig());
+      setBuckConfig(instance.getBuckConfig());
+      setAutogenerateAndroidFacetSourcesEnabled(instance.isAutogenerateAndroidFacetSourcesEnabled());
+      Optional<String> projectJdkNameOptional = instance.getProjectJdkName();
+      if (projectJdkNameOptional.isPresent()) {
+        setProjectJdkName(projectJdkNameOptional);
+      }
+      Optional<String> projectJdkTypeOptional = instance.getProjectJdkType();
+      if (projectJdkTypeOptional.isPresent()) {
+        setProjectJdkType(projectJdkTypeOptional);
+      }
+      Optional<String> androidModuleSdkNameOptional = instance.getAndroidModuleSdkName();
+      if (androidModuleSdkNameOptional.isPresent()) {
+        setAndroidModuleSdkName(androidModuleSdkNameOptional);
+      }
+      Optional<String> androidModuleSdkTypeOptional = instance.getAndroidModuleSdkType();
+      if (androidModuleSdkTypeOptional.isPresent()) {
+        setAndroidModuleSdkType(androidModuleSdkTypeOptional);
+      }
+      Optional<String> intellijModuleSdkNameOptional = instance.getIntellijModuleSdkName();
+      if (intellijModuleSdkNameOptional.isPresent()) {
+        setIntellijModuleSdkName(intellijModuleSdkNameOptional);
+      }
+      addAllIntellijPluginLabels(instance.getIntellijPluginLabels());
+      Optional<String> javaModuleSdkNameOptional = instance.getJavaModuleSdkName();
+      if (javaModuleSdkNameOptional.isPresent()) {
+        setJavaModuleSdkName(javaModuleSdkNameOptional);
+      }
+      Optional<String> javaModuleSdkTypeOptional = instance.getJavaModuleSdkType();
+      if (javaModuleSdkTypeOptional.isPresent()) {
+        setJavaModuleSdkType(javaModuleSdkTypeOptional);
+      }
+      Optional<String> projectLanguageLevelOptional = instance.getProjectLanguageLevel();
+      if (projectLanguageLevelOptional.isPresent()) {
+        setProjectLanguageLevel(projectLanguageLevelOptional);
+      }
+      addAllExcludedResourcePaths(instance.getExcludedResourcePaths());
+      putAllLabelToGeneratedSourcesMap(instance.getLabelToGeneratedSourcesMap());
+      Optional<Path> androidManifestOptional = instance.getAndroidManifest();
+      if (androidManifestOptional.isPresent()) {
+        setAndroidManifest(androidManifestOptional);
+      }
+      setCleanerEnabled(instance.isCleanerEnabled());
+      setRemovingUnusedLibrariesEnabled(instance.isRemovingUnusedLibrariesEnabled());
+      setExcludeArtifactsEnabled(instance.isExcludeArtifactsEnabled());
+      setIncludeTransitiveDependency(instance.isIncludeTransitiveDependency());
+      setSkipBuildEnabled(instance.isSkipBuildEnabled());
+      setAggregationMode(instance.getAggregationMode());
+      Optional<String> generatedFilesListFilenameOptional = instance.getGeneratedFilesListFilename();
+      if (generatedFilesListFilenameOptional.isPresent()) {
+        setGeneratedFilesListFilename(generatedFilesListFilenameOptional);
+      }
+      setModuleGroupName(instance.getModuleGroupName());
+      setProjectRoot(instance.getProjectRoot());
+      setProjectPaths(instance.getProjectPaths());
+      setAggregatingAndroidResourceModulesEnabled(instance.isAggregatingAndroidResourceModulesEnabled());
+      addAllIgnoredTargetLabels(instance.getIgnoredTargetLabels());
+      setAggregationLimitForAndroidResourceModule(instance.getAggregationLimitForAndroidResourceModule());
+      setGeneratingAndroidManifestEnabled(instance.isGeneratingAndroidManifestEnabled());
+      Optional<String> outputUrlOptional = instance.getOutputUrl();
+      if (outputUrlOptional.isPresent()) {
+        setOutputUrl(outputUrlOptional);
+      }
+      Optional<Path> extraCompilerOutputModulesPathOptional = instance.getExtraCompilerOutputModulesPath();
+      if (extraCompilerOutputModulesPathOptional.isPresent()) {
+        setExtraCompilerOutputModulesPath(extraCompilerOutputModulesPathOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#getJavaBuckConfig() javaBuckConfig} attribute.
+     * @param javaBuckConfig The value for javaBuckConfig 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavaBuckConfig(JavaBuckConfig javaBuckConfig) {
+      this.javaBuckConfig = Objects.requireNonNull(javaBuckConfig, "javaBuckConfig");
+      initBits &= ~INIT_BIT_JAVA_BUCK_CONFIG;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#getBuckConfig() buckConfig} attribute.
+     * @param buckConfig The value for buckConfig 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuckConfig(BuckConfig buckConfig) {
+      this.buckConfig = Objects.requireNonNull(buckConfig, "buckConfig");
+      initBits &= ~INIT_BIT_BUCK_CONFIG;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#isAutogenerateAndroidFacetSourcesEnabled() autogenerateAndroidFacetSourcesEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractIjProjectConfig#isAutogenerateAndroidFacetSourcesEnabled() autogenerateAndroidFacetSourcesEnabled}.</em>
+     * @param autogenerateAndroidFacetSourcesEnabled The value for autogenerateAndroidFacetSourcesEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAutogenerateAndroidFacetSourcesEnabled(boolean autogenerateAndroidFacetSourcesEnabled) {
+      this.autogenerateAndroidFacetSourcesEnabled = autogenerateAndroidFacetSourcesEnabled;
+      optBits |= OPT_BIT_AUTOGENERATE_ANDROID_FACET_SOURCES_ENABLED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getProjectJdkName() projectJdkName} to projectJdkName.
+     * @param projectJdkName The value for projectJdkName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProjectJdkName(String projectJdkName) {
+      this.projectJdkName = Objects.requireNonNull(projectJdkName, "projectJdkName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getProjectJdkName() projectJdkName} to projectJdkName.
+     * @param projectJdkName The value for projectJdkName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectJdkName(Optional<String> projectJdkName) {
+      this.projectJdkName = projectJdkName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getProjectJdkType() projectJdkType} to projectJdkType.
+     * @param projectJdkType The value for projectJdkType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProjectJdkType(String projectJdkType) {
+      this.projectJdkType = Objects.requireNonNull(projectJdkType, "projectJdkType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getProjectJdkType() projectJdkType} to projectJdkType.
+     * @param projectJdkType The value for projectJdkType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectJdkType(Optional<String> projectJdkType) {
+      this.projectJdkType = projectJdkType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getAndroidModuleSdkName() androidModuleSdkName} to androidModuleSdkName.
+     * @param androidModuleSdkName The value for androidModuleSdkName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAndroidModuleSdkName(String androidModuleSdkName) {
+      this.androidModuleSdkName = Objects.requireNonNull(androidModuleSdkName, "androidModuleSdkName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getAndroidModuleSdkName() androidModuleSdkName} to androidModuleSdkName.
+     * @param androidModuleSdkName The value for androidModuleSdkName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAndroidModuleSdkName(Optional<String> androidModuleSdkName) {
+      this.androidModuleSdkName = androidModuleSdkName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getAndroidModuleSdkType() androidModuleSdkType} to androidModuleSdkType.
+     * @param androidModuleSdkType The value for androidModuleSdkType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAndroidModuleSdkType(String androidModuleSdkType) {
+      this.androidModuleSdkType = Objects.requireNonNull(androidModuleSdkType, "androidModuleSdkType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getAndroidModuleSdkType() androidModuleSdkType} to androidModuleSdkType.
+     * @param androidModuleSdkType The value for androidModuleSdkType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAndroidModuleSdkType(Optional<String> androidModuleSdkType) {
+      this.androidModuleSdkType = androidModuleSdkType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getIntellijModuleSdkName() intellijModuleSdkName} to intellijModuleSdkName.
+     * @param intellijModuleSdkName The value for intellijModuleSdkName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setIntellijModuleSdkName(String intellijModuleSdkName) {
+      this.intellijModuleSdkName = Objects.requireNonNull(intellijModuleSdkName, "intellijModuleSdkName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getIntellijModuleSdkName() intellijModuleSdkName} to intellijModuleSdkName.
+     * @param intellijModuleSdkName The value for intellijModuleSdkName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIntellijModuleSdkName(Optional<String> intellijModuleSdkName) {
+      this.intellijModuleSdkName = intellijModuleSdkName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractIjProjectConfig#getIntellijPluginLabels() intellijPluginLabels} set.
+     * @param element A intellijPluginLabels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIntellijPluginLabels(String element) {
+      this.intellijPluginLabels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjProjectConfig#getIntellijPluginLabels() intellijPluginLabels} set.
+     * @param elements An array of intellijPluginLabels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIntellijPluginLabels(String... elements) {
+      this.intellijPluginLabels.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjProjectConfig#getIntellijPluginLabels() intellijPluginLabels} set.
+     * @param elements An iterable of intellijPluginLabels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIntellijPluginLabels(Iterable<String> elements) {
+      this.intellijPluginLabels = ImmutableSet.builder();
+      return addAllIntellijPluginLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjProjectConfig#getIntellijPluginLabels() intellijPluginLabels} set.
+     * @param elements An iterable of intellijPluginLabels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllIntellijPluginLabels(Iterable<String> elements) {
+      this.intellijPluginLabels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getJavaModuleSdkName() javaModuleSdkName} to javaModuleSdkName.
+     * @param javaModuleSdkName The value for javaModuleSdkName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavaModuleSdkName(String javaModuleSdkName) {
+      this.javaModuleSdkName = Objects.requireNonNull(javaModuleSdkName, "javaModuleSdkName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getJavaModuleSdkName() javaModuleSdkName} to javaModuleSdkName.
+     * @param javaModuleSdkName The value for javaModuleSdkName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavaModuleSdkName(Optional<String> javaModuleSdkName) {
+      this.javaModuleSdkName = javaModuleSdkName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getJavaModuleSdkType() javaModuleSdkType} to javaModuleSdkType.
+     * @param javaModuleSdkType The value for javaModuleSdkType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavaModuleSdkType(String javaModuleSdkType) {
+      this.javaModuleSdkType = Objects.requireNonNull(javaModuleSdkType, "javaModuleSdkType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getJavaModuleSdkType() javaModuleSdkType} to javaModuleSdkType.
+     * @param javaModuleSdkType The value for javaModuleSdkType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavaModuleSdkType(Optional<String> javaModuleSdkType) {
+      this.javaModuleSdkType = javaModuleSdkType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getProjectLanguageLevel() projectLanguageLevel} to projectLanguageLevel.
+     * @param projectLanguageLevel The value for projectLanguageLevel
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProjectLanguageLevel(String projectLanguageLevel) {
+      this.projectLanguageLevel = Objects.requireNonNull(projectLanguageLevel, "projectLanguageLevel");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getProjectLanguageLevel() projectLanguageLevel} to projectLanguageLevel.
+     * @param projectLanguageLevel The value for projectLanguageLevel
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectLanguageLevel(Optional<String> projectLanguageLevel) {
+      this.projectLanguageLevel = projectLanguageLevel.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractIjProjectConfig#getExcludedResourcePaths() excludedResourcePaths} list.
+     * @param element A excludedResourcePaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExcludedResourcePaths(String element) {
+      this.excludedResourcePaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjProjectConfig#getExcludedResourcePaths() excludedResourcePaths} list.
+     * @param elements An array of excludedResourcePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExcludedResourcePaths(String... elements) {
+      this.excludedResourcePaths.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjProjectConfig#getExcludedResourcePaths() excludedResourcePaths} list.
+     * @param elements An iterable of excludedResourcePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExcludedResourcePaths(Iterable<String> elements) {
+      this.excludedResourcePaths = ImmutableList.builder();
+      return addAllExcludedResourcePaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjProjectConfig#getExcludedResourcePaths() excludedResourcePaths} list.
+     * @param elements An iterable of excludedResourcePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExcludedResourcePaths(Iterable<String> elements) {
+      this.excludedResourcePaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractIjProjectConfig#getLabelToGeneratedSourcesMap() labelToGeneratedSourcesMap} map.
+     * @param key The key in the labelToGeneratedSourcesMap map
+     * @param value The associated value in the labelToGeneratedSourcesMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putLabelToGeneratedSourcesMap(String key, String value) {
+      this.labelToGeneratedSourcesMap.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractIjProjectConfig#getLabelToGeneratedSourcesMap() labelToGeneratedSourcesMap} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putLabelToGeneratedSourcesMap(Map.Entry<String, ? extends String> entry) {
+      this.labelToGeneratedSourcesMap.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractIjProjectConfig#getLabelToGeneratedSourcesMap() labelToGeneratedSourcesMap} map. Nulls are not permitted
+     * @param labelToGeneratedSourcesMap The entries that will be added to the labelToGeneratedSourcesMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabelToGeneratedSourcesMap(Map<String, ? extends String> labelToGeneratedSourcesMap) {
+      this.labelToGeneratedSourcesMap = ImmutableMap.builder();
+      return putAllLabelToGeneratedSourcesMap(labelToGeneratedSourcesMap);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractIjProjectConfig#getLabelToGeneratedSourcesMap() labelToGeneratedSourcesMap} map. Nulls are not permitted
+     * @param labelToGeneratedSourcesMap The entries that will be added to the labelToGeneratedSourcesMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllLabelToGeneratedSourcesMap(Map<String, ? extends String> labelToGeneratedSourcesMap) {
+      this.labelToGeneratedSourcesMap.putAll(labelToGeneratedSourcesMap);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getAndroidManifest() androidManifest} to androidManifest.
+     * @param androidManifest The value for androidManifest
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAndroidManifest(Path androidManifest) {
+      this.androidManifest = Objects.requireNonNull(androidManifest, "androidManifest");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getAndroidManifest() androidManifest} to androidManifest.
+     * @param androidManifest The value for androidManifest
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAndroidManifest(Optional<? extends Path> androidManifest) {
+      this.androidManifest = androidManifest.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#isCleanerEnabled() cleanerEnabled} attribute.
+     * @param cleanerEnabled The value for cleanerEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCleanerEnabled(boolean cleanerEnabled) {
+      this.cleanerEnabled = cleanerEnabled;
+      initBits &= ~INIT_BIT_CLEANER_ENABLED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#isRemovingUnusedLibrariesEnabled() removingUnusedLibrariesEnabled} attribute.
+     * @param removingUnusedLibrariesEnabled The value for removingUnusedLibrariesEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRemovingUnusedLibrariesEnabled(boolean removingUnusedLibrariesEnabled) {
+      this.removingUnusedLibrariesEnabled = removingUnusedLibrariesEnabled;
+      initBits &= ~INIT_BIT_REMOVING_UNUSED_LIBRARIES_ENABLED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#isExcludeArtifactsEnabled() excludeArtifactsEnabled} attribute.
+     * @param excludeArtifactsEnabled The value for excludeArtifactsEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExcludeArtifactsEnabled(boolean excludeArtifactsEnabled) {
+      this.excludeArtifactsEnabled = excludeArtifactsEnabled;
+      initBits &= ~INIT_BIT_EXCLUDE_ARTIFACTS_ENABLED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#isIncludeTransitiveDependency() includeTransitiveDependency} attribute.
+     * @param includeTransitiveDependency The value for includeTransitiveDependency 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludeTransitiveDependency(boolean includeTransitiveDependency) {
+      this.includeTransitiveDependency = includeTransitiveDependency;
+      initBits &= ~INIT_BIT_INCLUDE_TRANSITIVE_DEPENDENCY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#isSkipBuildEnabled() skipBuildEnabled} attribute.
+     * @param skipBuildEnabled The value for skipBuildEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSkipBuildEnabled(boolean skipBuildEnabled) {
+      this.skipBuildEnabled = skipBuildEnabled;
+      initBits &= ~INIT_BIT_SKIP_BUILD_ENABLED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#getAggregationMode() aggregationMode} attribute.
+     * @param aggregationMode The value for aggregationMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAggregationMode(AggregationMode aggregationMode) {
+      this.aggregationMode = Objects.requireNonNull(aggregationMode, "aggregationMode");
+      initBits &= ~INIT_BIT_AGGREGATION_MODE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getGeneratedFilesListFilename() generatedFilesListFilename} to generatedFilesListFilename.
+     * @param generatedFilesListFilename The value for generatedFilesListFilename
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setGeneratedFilesListFilename(String generatedFilesListFilename) {
+      this.generatedFilesListFilename = Objects.requireNonNull(generatedFilesListFilename, "generatedFilesListFilename");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getGeneratedFilesListFilename() generatedFilesListFilename} to generatedFilesListFilename.
+     * @param generatedFilesListFilename The value for generatedFilesListFilename
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGeneratedFilesListFilename(Optional<String> generatedFilesListFilename) {
+      this.generatedFilesListFilename = generatedFilesListFilename.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#getModuleGroupName() moduleGroupName} attribute.
+     * @param moduleGroupName The value for moduleGroupName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setModuleGroupName(String moduleGroupName) {
+      this.moduleGroupName = Objects.requireNonNull(moduleGroupName, "moduleGroupName");
+      initBits &= ~INIT_BIT_MODULE_GROUP_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#getProjectRoot() projectRoot} attribute.
+     * @param projectRoot The value for projectRoot 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectRoot(String projectRoot) {
+      this.projectRoot = Objects.requireNonNull(projectRoot, "projectRoot");
+      initBits &= ~INIT_BIT_PROJECT_ROOT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#getProjectPaths() projectPaths} attribute.
+     * @param projectPaths The value for projectPaths 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectPaths(IjProjectPaths projectPaths) {
+      this.projectPaths = Objects.requireNonNull(projectPaths, "projectPaths");
+      initBits &= ~INIT_BIT_PROJECT_PATHS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#isAggregatingAndroidResourceModulesEnabled() aggregatingAndroidResourceModulesEnabled} attribute.
+     * @param aggregatingAndroidResourceModulesEnabled The value for aggregatingAndroidResourceModulesEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAggregatingAndroidResourceModulesEnabled(boolean aggregatingAndroidResourceModulesEnabled) {
+      this.aggregatingAndroidResourceModulesEnabled = aggregatingAndroidResourceModulesEnabled;
+      initBits &= ~INIT_BIT_AGGREGATING_ANDROID_RESOURCE_MODULES_ENABLED;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractIjProjectConfig#getIgnoredTargetLabels() ignoredTargetLabels} set.
+     * @param element A ignoredTargetLabels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIgnoredTargetLabels(String element) {
+      this.ignoredTargetLabels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjProjectConfig#getIgnoredTargetLabels() ignoredTargetLabels} set.
+     * @param elements An array of ignoredTargetLabels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIgnoredTargetLabels(String... elements) {
+      this.ignoredTargetLabels.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjProjectConfig#getIgnoredTargetLabels() ignoredTargetLabels} set.
+     * @param elements An iterable of ignoredTargetLabels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIgnoredTargetLabels(Iterable<String> elements) {
+      this.ignoredTargetLabels = ImmutableSet.builder();
+      return addAllIgnoredTargetLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjProjectConfig#getIgnoredTargetLabels() ignoredTargetLabels} set.
+     * @param elements An iterable of ignoredTargetLabels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllIgnoredTargetLabels(Iterable<String> elements) {
+      this.ignoredTargetLabels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#getAggregationLimitForAndroidResourceModule() aggregationLimitForAndroidResourceModule} attribute.
+     * @param aggregationLimitForAndroidResourceModule The value for aggregationLimitForAndroidResourceModule 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAggregationLimitForAndroidResourceModule(int aggregationLimitForAndroidResourceModule) {
+      this.aggregationLimitForAndroidResourceModule = aggregationLimitForAndroidResourceModule;
+      initBits &= ~INIT_BIT_AGGREGATION_LIMIT_FOR_ANDROID_RESOURCE_MODULE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#isGeneratingAndroidManifestEnabled() generatingAndroidManifestEnabled} attribute.
+     * @param generatingAndroidManifestEnabled The value for generatingAndroidManifestEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGeneratingAndroidManifestEnabled(boolean generatingAndroidManifestEnabled) {
+      this.generatingAndroidManifestEnabled = generatingAndroidManifestEnabled;
+      initBits &= ~INIT_BIT_GENERATING_ANDROID_MANIFEST_ENABLED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getOutputUrl() outputUrl} to outputUrl.
+     * @param outputUrl The value for outputUrl
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOutputUrl(String outputUrl) {
+      this.outputUrl = Objects.requireNonNull(outputUrl, "outputUrl");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getOutputUrl() outputUrl} to outputUrl.
+     * @param outputUrl The value for outputUrl
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOutputUrl(Optional<String> outputUrl) {
+      this.outputUrl = outputUrl.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getExtraCompilerOutputModulesPath() extraCompilerOutputModulesPath} to extraCompilerOutputModulesPath.
+     * @param extraCompilerOutputModulesPath The value for extraCompilerOutputModulesPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExtraCompilerOutputModulesPath(Path extraCompilerOutputModulesPath) {
+      this.extraCompilerOutputModulesPath = Objects.requireNonNull(extraCompilerOutputModulesPath, "extraCompilerOutputModulesPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getExtraCompilerOutputModulesPath() extraCompilerOutputModulesPath} to extraCompilerOutputModulesPath.
+     * @param extraCompilerOutputModulesPath The value for extraCompilerOutputModulesPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtraCompilerOutputModulesPath(Optional<? extends Path> extraCompilerOutputModulesPath) {
+      this.extraCompilerOutputModulesPath = extraCompilerOutputModulesPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link IjProjectConfig IjProjectConfig}.
+     * @return An immutable instance of IjProjectConfig
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public IjProjectConfig build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new IjProjectConfig(this);
+    }
+
+    private boolean autogenerateAndroidFacetSourcesEnabledIsSet() {
+      return (optBits & OPT_BIT_AUTOGENERATE_ANDROID_FACET_SOURCES_ENABLED) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_JAVA_BUCK_CONFIG) != 0) attributes.add("javaBuckConfig");
+      if ((initBits & INIT_BIT_BUCK_CONFIG) != 0) attributes.add("buckConfig");
+      if ((initBits & INIT_BIT_CLEANER_ENABLED) != 0) attributes.add("cleanerEnabled");
+      if ((initBits & INIT_BIT_REMOVING_UNUSED_LIBRARIES_ENABLED) != 0) attributes.add("removingUnusedLibrariesEnabled");
+      if ((initBits & INIT_BIT_EXCLUDE_ARTIFACTS_ENABLED) != 0) attributes.add("excludeArtifactsEnabled");
+      if ((initBits & INIT_BIT_INCLUDE_TRANSITIVE_DEPENDENCY) != 0) attributes.add("includeTransitiveDependency");
+      if ((initBits & INIT_BIT_SKIP_BUILD_ENABLED) != 0) attributes.add("skipBuildEnabled");
+      if ((initBits & INIT_BIT_AGGREGATION_MODE) != 0) attributes.add("aggregationMode");
+      if ((initBits & INIT_BIT_MODULE_GROUP_NAME) != 0) attributes.add("moduleGroupName");
+      if ((initBits & INIT_BIT_PROJECT_ROOT) != 0) attributes.add("projectRoot");
+      if ((initBits & INIT_BIT_PROJECT_PATHS) != 0) attributes.add("projectPaths");
+      if ((initBits & INIT_BIT_AGGREGATING_ANDROID_RESOURCE_MODULES_ENABLED) != 0) attributes.add("aggregatingAndroidResourceModulesEnabled");
+      if ((initBits & INIT_BIT_AGGREGATION_LIMIT_FOR_ANDROID_RESOURCE_MODULE) != 0) attributes.add("aggregationLimitForAndroidResourceModule");
+      if ((initBits & INIT_BIT_GENERATING_ANDROID_MANIFEST_ENABLED) != 0) attributes.add("generatingAndroidManifestEnabled");
+      return "Cannot build IjProjectConfig, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,546 @@
+package com.facebook.buck.ide.intellij.model.folders;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractIjSourceFolder}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code IjSourceFolder.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractIjSourceFolder"})
+@Immutable
+public final class IjSourceFolder extends AbstractIjSourceFolder {
+  private final String type;
+  private final String url;
+  private final Path path;
+  private final boolean isTestSource;
+  private final boolean isResourceFolder;
+  private final IjResourceFolderType ijResourceFolderType;
+  private final @Nullable Path relativeOutputPath;
+  private final @Nullable String packagePrefix;
+
+  private IjSourceFolder(
+      String type,
+      String url,
+      Path path,
+      boolean isTestSource,
+      boolean isResourceFolder,
+      IjResourceFolderType ijResourceFolderType,
+      @Nullable Path relativeOutputPath,
+      @Nullable String packagePrefix) {
+    this.type = type;
+    this.url = url;
+    this.path = path;
+    this.isTestSource = isTestSource;
+    this.isResourceFolder = isResourceFolder;
+    this.ijResourceFolderType = ijResourceFolderType;
+    this.relativeOutputPath = relativeOutputPath;
+    this.packagePrefix = packagePrefix;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code url} attribute
+   */
+  @Override
+  public String getUrl() {
+    return url;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code isTestSource} attribute
+   */
+  @Override
+  public boolean getIsTestSource() {
+    return isTestSource;
+  }
+
+  /**
+   * @return The value of the {@code isResourceFolder} attribute
+   */
+  @Override
+  public boolean getIsResourceFolder() {
+    return isResourceFolder;
+  }
+
+  /**
+   * @return The value of the {@code ijResourceFolderType} attribute
+   */
+  @Override
+  public IjResourceFolderType getIjResourceFolderType() {
+    return ijResourceFolderType;
+  }
+
+  /**
+   * @return The value of the {@code relativeOutputPath} attribute
+   */
+  @Override
+  public @Nullable Path getRelativeOutputPath() {
+    return relativeOutputPath;
+  }
+
+  /**
+   * @return The value of the {@code packagePrefix} attribute
+   */
+  @Override
+  public @Nullable String getPackagePrefix() {
+    return packagePrefix;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjSourceFolder#getType() type} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withType(String value) {
+    if (this.type.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "type");
+    return new IjSourceFolder(
+        newValue,
+        this.url,
+        this.path,
+        this.isTestSource,
+        this.isResourceFolder,
+        this.ijResourceFolderType,
+        this.relativeOutputPath,
+        this.packagePrefix);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjSourceFolder#getUrl() url} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for url
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withUrl(String value) {
+    if (this.url.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "url");
+    return new IjSourceFolder(
+        this.type,
+        newValue,
+        this.path,
+        this.isTestSource,
+        this.isResourceFolder,
+        this.ijResourceFolderType,
+        this.relativeOutputPath,
+        this.packagePrefix);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjSourceFolder#getPath() path} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withPath(Path value) {
+    if (this.path == value) return this;
+    Path newValue = Objects.requireNonNull(value, "path");
+    return new IjSourceFolder(
+        this.type,
+        this.url,
+        newValue,
+        this.isTestSource,
+        this.isResourceFolder,
+        this.ijResourceFolderType,
+        this.relativeOutputPath,
+        this.packagePrefix);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjSourceFolder#getIsTestSource() isTestSource} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for isTestSource
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withIsTestSource(boolean value) {
+    if (this.isTestSource == value) return this;
+    return new IjSourceFolder(
+        this.type,
+        this.url,
+        this.path,
+        value,
+        this.isResourceFolder,
+        this.ijResourceFolderType,
+        this.relativeOutputPath,
+        this.packagePrefix);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjSourceFolder#getIsResourceFolder() isResourceFolder} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for isResourceFolder
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withIsResourceFolder(boolean value) {
+    if (this.isResourceFolder == value) return this;
+    return new IjSourceFolder(
+        this.type,
+        this.url,
+        this.path,
+        this.isTestSource,
+        value,
+        this.ijResourceFolderType,
+        this.relativeOutputPath,
+        this.packagePrefix);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjSourceFolder#getIjResourceFolderType() ijResourceFolderType} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ijResourceFolderType
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withIjResourceFolderType(IjResourceFolderType value) {
+    if (this.ijResourceFolderType == value) return this;
+    IjResourceFolderType newValue = Objects.requireNonNull(value, "ijResourceFolderType");
+    return new IjSourceFolder(
+        this.type,
+        this.url,
+        this.path,
+        this.isTestSource,
+        this.isResourceFolder,
+        newValue,
+        this.relativeOutputPath,
+        this.packagePrefix);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjSourceFolder#getRelativeOutputPath() relativeOutputPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for relativeOutputPath (can be {@code null})
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withRelativeOutputPath(@Nullable Path value) {
+    if (this.relativeOutputPath == value) return this;
+    return new IjSourceFolder(
+        this.type,
+        this.url,
+        this.path,
+        this.isTestSource,
+        this.isResourceFolder,
+        this.ijResourceFolderType,
+        value,
+        this.packagePrefix);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjSourceFolder#getPackagePrefix() packagePrefix} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for packagePrefix (can be {@code null})
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withPackagePrefix(@Nullable String value) {
+    if (Objects.equals(this.packagePrefix, value)) return this;
+    return new IjSourceFolder(
+        this.type,
+        this.url,
+        this.path,
+        this.isTestSource,
+        this.isResourceFolder,
+        this.ijResourceFolderType,
+        this.relativeOutputPath,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code IjSourceFolder} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof IjSourceFolder
+        && equalTo((IjSourceFolder) another);
+  }
+
+  private boolean equalTo(IjSourceFolder another) {
+    return type.equals(another.type)
+        && url.equals(another.url)
+        && path.equals(another.path)
+        && isTestSource == another.isTestSource
+        && isResourceFolder == another.isResourceFolder
+        && ijResourceFolderType.equals(another.ijResourceFolderType)
+        && Objects.equals(relativeOutputPath, another.relativeOutputPath)
+        && Objects.equals(packagePrefix, another.packagePrefix);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code url}, {@code path}, {@code isTestSource}, {@code isResourceFolder}, {@code ijResourceFolderType}, {@code relativeOutputPath}, {@code packagePrefix}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + url.hashCode();
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + Booleans.hashCode(isTestSource);
+    h += (h << 5) + Booleans.hashCode(isResourceFolder);
+    h += (h << 5) + ijResourceFolderType.hashCode();
+    h += (h << 5) + Objects.hashCode(relativeOutputPath);
+    h += (h << 5) + Objects.hashCode(packagePrefix);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code IjSourceFolder} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IjSourceFolder")
+        .omitNullValues()
+        .add("type", type)
+        .add("url", url)
+        .add("path", path)
+        .add("isTestSource", isTestSource)
+        .add("isResourceFolder", isResourceFolder)
+        .add("ijResourceFolderType", ijResourceFolderType)
+        .add("relativeOutputPath", relativeOutputPath)
+        .add("packagePrefix", packagePrefix)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractIjSourceFolder} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable IjSourceFolder instance
+   */
+  static IjSourceFolder copyOf(AbstractIjSourceFolder instance) {
+    if (instance instanceof IjSourceFolder) {
+      return (IjSourceFolder) instance;
+    }
+    return IjSourceFolder.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link IjSourceFolder IjSourceFolder}.
+   * @return A new IjSourceFolder builder
+   */
+  public static IjSourceFolder.Builder builder() {
+    return new IjSourceFolder.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link IjSourceFolder IjSourceFolder}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TYPE = 0x1L;
+    private static final long INIT_BIT_URL = 0x2L;
+    private static final long INIT_BIT_PATH = 0x4L;
+    private static final long INIT_BIT_IS_TEST_SOURCE = 0x8L;
+    private static final long INIT_BIT_IS_RESOURCE_FOLDER = 0x10L;
+    private static final long INIT_BIT_IJ_RESOURCE_FOLDER_TYPE = 0x20L;
+    private long initBits = 0x3fL;
+
+    private @Nullable String type;
+    private @Nullable String url;
+    private @Nullable Path path;
+    private boolean isTestSource;
+    private boolean isResourceFolder;
+    private @Nullable IjResourceFolderType ijResourceFolderType;
+    private @Nullable Path relativeOutputPath;
+    private @Nullable String packagePrefix;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code IjSourceFolder} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(IjSourceFolder instance) {
+      return from((AbstractIjSourceFolder) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractIjSourceFolder} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractIjSourceFolder instance) {
+      Objects.requireNonNull(instance, "instance");
+      setType(instance.getType());
+      setUrl(instance.getUrl());
+      setPath(instance.getPath());
+      setIsTestSource(instance.getIsTestSource());
+      setIsResourceFolder(instance.getIsResourceFolder());
+      setIjResourceFolderType(instance.getIjResourceFolderType());
+      @Nullable Path relativeOutputPathValue = instance.getRelativeOutputPath();
+      if (relativeOutputPathValue != null) {
+        setRelativeOutputPath(relativeOutputPathValue);
+      }
+      @Nullable String packagePrefixValue = instance.getPackagePrefix();
+      if (packagePrefixValue != null) {
+        setPackagePrefix(packagePrefixValue);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjSourceFolder#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setType(String type) {
+      this.type = Objects.requireNonNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjSourceFolder#getUrl() url} attribute.
+     * @param url The value for url 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUrl(String url) {
+      this.url = Objects.requireNonNull(url, "url");
+      initBits &= ~INIT_BIT_URL;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjSourceFolder#getPath() path} attribute.
+     * @param path The value for path 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPath(Path path) {
+      this.path = Objects.requireNonNull(path, "path");
+      initBits &= ~INIT_BIT_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjSourceFolder#getIsTestSource() isTestSource} attribute.
+     * @param isTestSource The value for isTestSource 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIsTestSource(boolean isTestSource) {
+      this.isTestSource = isTestSource;
+      initBits &= ~INIT_BIT_IS_TEST_SOURCE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjSourceFolder#getIsResourceFolder() isResourceFolder} attribute.
+     * @param isResourceFolder The value for isResourceFolder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIsResourceFolder(boolean isResourceFolder) {
+      this.isResourceFolder = isResourceFolder;
+      initBits &= ~INIT_BIT_IS_RESOURCE_FOLDER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjSourceFolder#getIjResourceFolderType() ijResourceFolderType} attribute.
+     * @param ijResourceFolderType The value for ijResourceFolderType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIjResourceFolderType(IjResourceFolderType ijResourceFolderType) {
+      this.ijResourceFolderType = Objects.requireNonNull(ijResourceFolderType, "ijResourceFolderType");
+      initBits &= ~INIT_BIT_IJ_RESOURCE_FOLDER_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjSourceFolder#getRelativeOutputPath() relativeOutputPath} attribute.
+     * @param relativeOutputPath The value for relativeOutputPath (can be {@code null})
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRelativeOutputPath(@Nullable Path relativeOutputPath) {
+      this.relativeOutputPath = relativeOutputPath;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIjSourceFolder#getPackagePrefix() packagePrefix} attribute.
+     * @param packagePrefix The value for packagePrefix (can be {@code null})
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackagePrefix(@Nullable String packagePrefix) {
+      this.packagePrefix = packagePrefix;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link IjSourceFolder IjSourceFolder}.
+     * @return An immutable instance of IjSourceFolder
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public IjSourceFolder build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new IjSourceFolder(
+          type,
+          url,
+          path,
+          isTestSource,
+          isResourceFolder,
+          ijResourceFolderType,
+          relativeOutputPath,
+          packagePrefix);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      if ((initBits & INIT_BIT_URL) != 0) attributes.add("url");
+      if ((initBits & INIT_BIT_PATH) != 0) attributes.add("path");
+      if ((initBits & INIT_BIT_IS_TEST_SOURCE) != 0) attributes.add("isTestSource");
+      if ((initBits & INIT_BIT_IS_RESOURCE_FOLDER) != 0) attributes.add("isResourceFolder");
+      if ((initBits & INIT_BIT_IJ_RESOURCE_FOLDER_TYPE) != 0) attributes.add("ijResourceFolderType");
+      return "Cannot build IjSourceFolder, some of required attributes are not set " + attributes;
+    }
+  }
+}
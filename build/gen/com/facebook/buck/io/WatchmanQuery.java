@@ -0,0 +1,144 @@
+package com.facebook.buck.io;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractWatchmanQuery}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code WatchmanQuery.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractWatchmanQuery"})
+@Immutable
+public final class WatchmanQuery extends AbstractWatchmanQuery {
+  private final String queryPath;
+  private final ImmutableMap<String, Object> queryParams;
+
+  private WatchmanQuery(String queryPath, Map<String, ? extends Object> queryParams) {
+    this.queryPath = Objects.requireNonNull(queryPath, "queryPath");
+    this.queryParams = ImmutableMap.copyOf(queryParams);
+  }
+
+  private WatchmanQuery(
+      WatchmanQuery original,
+      String queryPath,
+      ImmutableMap<String, Object> queryParams) {
+    this.queryPath = queryPath;
+    this.queryParams = queryParams;
+  }
+
+  /**
+   * @return The value of the {@code queryPath} attribute
+   */
+  @Override
+  public String getQueryPath() {
+    return queryPath;
+  }
+
+  /**
+   * @return The value of the {@code queryParams} attribute
+   */
+  @Override
+  public ImmutableMap<String, Object> getQueryParams() {
+    return queryParams;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractWatchmanQuery#getQueryPath() queryPath} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for queryPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final WatchmanQuery withQueryPath(String value) {
+    if (this.queryPath.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "queryPath");
+    return new WatchmanQuery(this, newValue, this.queryParams);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractWatchmanQuery#getQueryParams() queryParams} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the queryParams map
+   * @return A modified copy of {@code this} object
+   */
+  public final WatchmanQuery withQueryParams(Map<String, ? extends Object> entries) {
+    if (this.queryParams == entries) return this;
+    ImmutableMap<String, Object> newValue = ImmutableMap.copyOf(entries);
+    return new WatchmanQuery(this, this.queryPath, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code WatchmanQuery} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof WatchmanQuery
+        && equalTo((WatchmanQuery) another);
+  }
+
+  private boolean equalTo(WatchmanQuery another) {
+    return queryPath.equals(another.queryPath)
+        && queryParams.equals(another.queryParams);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code queryPath}, {@code queryParams}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + queryPath.hashCode();
+    h += (h << 5) + queryParams.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WatchmanQuery} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WatchmanQuery")
+        .omitNullValues()
+        .add("queryPath", queryPath)
+        .add("queryParams", queryParams)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WatchmanQuery} instance.
+   * @param queryPath The value for the {@code queryPath} attribute
+   * @param queryParams The value for the {@code queryParams} attribute
+   * @return An immutable WatchmanQuery instance
+   */
+  public static WatchmanQuery of(String queryPath, Map<String, ? extends Object> queryParams) {
+    return new WatchmanQuery(queryPath, queryParams);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractWatchmanQuery} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable WatchmanQuery instance
+   */
+  static WatchmanQuery copyOf(AbstractWatchmanQuery instance) {
+    if (instance instanceof WatchmanQuery) {
+      return (WatchmanQuery) instance;
+    }
+    return WatchmanQuery.of(instance.getQueryPath(), instance.getQueryParams());
+  }
+}
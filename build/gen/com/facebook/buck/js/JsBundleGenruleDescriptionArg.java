@@ -0,0 +1,1027 @@
+package com.facebook.buck.js;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasTests;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.shell.AbstractGenruleDescription;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code JsBundleGenruleDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg"})
+@Immutable
+public final class JsBundleGenruleDescriptionArg
+    implements JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg {
+  private final BuildTarget jsBundle;
+  private final boolean rewriteSourcemap;
+  private final @Nullable String bash;
+  private final @Nullable String cmd;
+  private final @Nullable String cmdExe;
+  private final ImmutableList<SourcePath> srcs;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> tests;
+
+  private JsBundleGenruleDescriptionArg(JsBundleGenruleDescriptionArg.Builder builder) {
+    this.jsBundle = builder.jsBundle;
+    this.bash = builder.bash;
+    this.cmd = builder.cmd;
+    this.cmdExe = builder.cmdExe;
+    this.srcs = builder.srcs.build();
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.tests = builder.tests.build();
+    this.rewriteSourcemap = builder.rewriteSourcemapIsSet()
+        ? builder.rewriteSourcemap
+        : JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg.super.getRewriteSourcemap();
+  }
+
+  private JsBundleGenruleDescriptionArg(
+      BuildTarget jsBundle,
+      boolean rewriteSourcemap,
+      @Nullable String bash,
+      @Nullable String cmd,
+      @Nullable String cmdExe,
+      ImmutableList<SourcePath> srcs,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> tests) {
+    this.jsBundle = jsBundle;
+    this.rewriteSourcemap = rewriteSourcemap;
+    this.bash = bash;
+    this.cmd = cmd;
+    this.cmdExe = cmdExe;
+    this.srcs = srcs;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.tests = tests;
+  }
+
+  /**
+   * @return The value of the {@code jsBundle} attribute
+   */
+  @Override
+  public BuildTarget getJsBundle() {
+    return jsBundle;
+  }
+
+  /**
+   * @return The value of the {@code rewriteSourcemap} attribute
+   */
+  @Override
+  public boolean getRewriteSourcemap() {
+    return rewriteSourcemap;
+  }
+
+  /**
+   * @return The value of the {@code bash} attribute
+   */
+  @Override
+  public Optional<String> getBash() {
+    return Optional.ofNullable(bash);
+  }
+
+  /**
+   * @return The value of the {@code cmd} attribute
+   */
+  @Override
+  public Optional<String> getCmd() {
+    return Optional.ofNullable(cmd);
+  }
+
+  /**
+   * @return The value of the {@code cmdExe} attribute
+   */
+  @Override
+  public Optional<String> getCmdExe() {
+    return Optional.ofNullable(cmdExe);
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableList<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getJsBundle() jsBundle} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for jsBundle
+   * @return A modified copy of the {@code this} object
+   */
+  public final JsBundleGenruleDescriptionArg withJsBundle(BuildTarget value) {
+    if (this.jsBundle == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "jsBundle");
+    return new JsBundleGenruleDescriptionArg(
+        newValue,
+        this.rewriteSourcemap,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getRewriteSourcemap() rewriteSourcemap} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for rewriteSourcemap
+   * @return A modified copy of the {@code this} object
+   */
+  public final JsBundleGenruleDescriptionArg withRewriteSourcemap(boolean value) {
+    if (this.rewriteSourcemap == value) return this;
+    return new JsBundleGenruleDescriptionArg(
+        this.jsBundle,
+        value,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getBash() bash} attribute.
+   * @param value The value for bash
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleGenruleDescriptionArg withBash(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "bash");
+    if (Objects.equals(this.bash, newValue)) return this;
+    return new JsBundleGenruleDescriptionArg(
+        this.jsBundle,
+        this.rewriteSourcemap,
+        newValue,
+        this.cmd,
+        this.cmdExe,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getBash() bash} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for bash
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleGenruleDescriptionArg withBash(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.bash, value)) return this;
+    return new JsBundleGenruleDescriptionArg(
+        this.jsBundle,
+        this.rewriteSourcemap,
+        value,
+        this.cmd,
+        this.cmdExe,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getCmd() cmd} attribute.
+   * @param value The value for cmd
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleGenruleDescriptionArg withCmd(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "cmd");
+    if (Objects.equals(this.cmd, newValue)) return this;
+    return new JsBundleGenruleDescriptionArg(
+        this.jsBundle,
+        this.rewriteSourcemap,
+        this.bash,
+        newValue,
+        this.cmdExe,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getCmd() cmd} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cmd
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleGenruleDescriptionArg withCmd(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.cmd, value)) return this;
+    return new JsBundleGenruleDescriptionArg(
+        this.jsBundle,
+        this.rewriteSourcemap,
+        this.bash,
+        value,
+        this.cmdExe,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getCmdExe() cmdExe} attribute.
+   * @param value The value for cmdExe
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleGenruleDescriptionArg withCmdExe(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "cmdExe");
+    if (Objects.equals(this.cmdExe, newValue)) return this;
+    return new JsBundleGenruleDescriptionArg(
+        this.jsBundle,
+        this.rewriteSourcemap,
+        this.bash,
+        this.cmd,
+        newValue,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getCmdExe() cmdExe} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cmdExe
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleGenruleDescriptionArg withCmdExe(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.cmdExe, value)) return this;
+    return new JsBundleGenruleDescriptionArg(
+        this.jsBundle,
+        this.rewriteSourcemap,
+        this.bash,
+        this.cmd,
+        value,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleGenruleDescriptionArg withSrcs(SourcePath... elements) {
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new JsBundleGenruleDescriptionArg(
+        this.jsBundle,
+        this.rewriteSourcemap,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleGenruleDescriptionArg withSrcs(Iterable<? extends SourcePath> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new JsBundleGenruleDescriptionArg(
+        this.jsBundle,
+        this.rewriteSourcemap,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final JsBundleGenruleDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new JsBundleGenruleDescriptionArg(
+        this.jsBundle,
+        this.rewriteSourcemap,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.srcs,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleGenruleDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new JsBundleGenruleDescriptionArg(
+        this.jsBundle,
+        this.rewriteSourcemap,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.srcs,
+        this.name,
+        newValue,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleGenruleDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new JsBundleGenruleDescriptionArg(
+        this.jsBundle,
+        this.rewriteSourcemap,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.srcs,
+        this.name,
+        newValue,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleGenruleDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new JsBundleGenruleDescriptionArg(
+        this.jsBundle,
+        this.rewriteSourcemap,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.srcs,
+        this.name,
+        this.licenses,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleGenruleDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new JsBundleGenruleDescriptionArg(
+        this.jsBundle,
+        this.rewriteSourcemap,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.srcs,
+        this.name,
+        this.licenses,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getTests() tests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleGenruleDescriptionArg withTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new JsBundleGenruleDescriptionArg(
+        this.jsBundle,
+        this.rewriteSourcemap,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getTests() tests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of tests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleGenruleDescriptionArg withTests(Iterable<? extends BuildTarget> elements) {
+    if (this.tests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new JsBundleGenruleDescriptionArg(
+        this.jsBundle,
+        this.rewriteSourcemap,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JsBundleGenruleDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JsBundleGenruleDescriptionArg
+        && equalTo((JsBundleGenruleDescriptionArg) another);
+  }
+
+  private boolean equalTo(JsBundleGenruleDescriptionArg another) {
+    return jsBundle.equals(another.jsBundle)
+        && rewriteSourcemap == another.rewriteSourcemap
+        && Objects.equals(bash, another.bash)
+        && Objects.equals(cmd, another.cmd)
+        && Objects.equals(cmdExe, another.cmdExe)
+        && srcs.equals(another.srcs)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && tests.equals(another.tests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code jsBundle}, {@code rewriteSourcemap}, {@code bash}, {@code cmd}, {@code cmdExe}, {@code srcs}, {@code name}, {@code licenses}, {@code labels}, {@code tests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + jsBundle.hashCode();
+    h += (h << 5) + Booleans.hashCode(rewriteSourcemap);
+    h += (h << 5) + Objects.hashCode(bash);
+    h += (h << 5) + Objects.hashCode(cmd);
+    h += (h << 5) + Objects.hashCode(cmdExe);
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + tests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JsBundleGenruleDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JsBundleGenruleDescriptionArg")
+        .omitNullValues()
+        .add("jsBundle", jsBundle)
+        .add("rewriteSourcemap", rewriteSourcemap)
+        .add("bash", bash)
+        .add("cmd", cmd)
+        .add("cmdExe", cmdExe)
+        .add("srcs", srcs)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("tests", tests)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable JsBundleGenruleDescriptionArg instance
+   */
+  static JsBundleGenruleDescriptionArg copyOf(JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg instance) {
+    if (instance instanceof JsBundleGenruleDescriptionArg) {
+      return (JsBundleGenruleDescriptionArg) instance;
+    }
+    return JsBundleGenruleDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link JsBundleGenruleDescriptionArg JsBundleGenruleDescriptionArg}.
+   * @return A new JsBundleGenruleDescriptionArg builder
+   */
+  public static JsBundleGenruleDescriptionArg.Builder builder() {
+    return new JsBundleGenruleDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link JsBundleGenruleDescriptionArg JsBundleGenruleDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_JS_BUNDLE = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private static final long OPT_BIT_REWRITE_SOURCEMAP = 0x1L;
+    private long initBits = 0x3L;
+    private long optBits;
+
+    private @Nullable BuildTarget jsBundle;
+    private boolean rewriteSourcemap;
+    private @Nullable String bash;
+    private @Nullable String cmd;
+    private @Nullable String cmdExe;
+    private ImmutableList.Builder<SourcePath> srcs = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JsBundleGenruleDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(JsBundleGenruleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractJsBundleGenruleDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.shell.AbstractGenruleDescription.CommonArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AbstractGenruleDescription.CommonArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg) {
+        JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg instance = (JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg) object;
+        setRewriteSourcemap(instance.getRewriteSourcemap());
+        setJsBundle(instance.getJsBundle());
+      }
+      if (object instanceof AbstractGenruleDescription.CommonArg) {
+        AbstractGenruleDescription.CommonArg instance = (AbstractGenruleDescription.CommonArg) object;
+        Optional<String> bashOptional = instance.getBash();
+        if (bashOptional.isPresent()) {
+          setBash(bashOptional);
+        }
+        addAllSrcs(instance.getSrcs());
+        Optional<String> cmdOptional = instance.getCmd();
+        if (cmdOptional.isPresent()) {
+          setCmd(cmdOptional);
+        }
+        Optional<String> cmdExeOptional = instance.getCmdExe();
+        if (cmdExeOptional.isPresent()) {
+          setCmdExe(cmdExeOptional);
+        }
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getJsBundle() jsBundle} attribute.
+     * @param jsBundle The value for jsBundle 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJsBundle(BuildTarget jsBundle) {
+      this.jsBundle = Objects.requireNonNull(jsBundle, "jsBundle");
+      initBits &= ~INIT_BIT_JS_BUNDLE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getRewriteSourcemap() rewriteSourcemap} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getRewriteSourcemap() rewriteSourcemap}.</em>
+     * @param rewriteSourcemap The value for rewriteSourcemap 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRewriteSourcemap(boolean rewriteSourcemap) {
+      this.rewriteSourcemap = rewriteSourcemap;
+      optBits |= OPT_BIT_REWRITE_SOURCEMAP;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getBash() bash} to bash.
+     * @param bash The value for bash
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBash(String bash) {
+      this.bash = Objects.requireNonNull(bash, "bash");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getBash() bash} to bash.
+     * @param bash The value for bash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBash(Optional<String> bash) {
+      this.bash = bash.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getCmd() cmd} to cmd.
+     * @param cmd The value for cmd
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCmd(String cmd) {
+      this.cmd = Objects.requireNonNull(cmd, "cmd");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getCmd() cmd} to cmd.
+     * @param cmd The value for cmd
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCmd(Optional<String> cmd) {
+      this.cmd = cmd.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getCmdExe() cmdExe} to cmdExe.
+     * @param cmdExe The value for cmdExe
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCmdExe(String cmdExe) {
+      this.cmdExe = Objects.requireNonNull(cmdExe, "cmdExe");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getCmdExe() cmdExe} to cmdExe.
+     * @param cmdExe The value for cmdExe
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCmdExe(Optional<String> cmdExe) {
+      this.cmdExe = cmdExe.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getSrcs() srcs} list.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getSrcs() srcs} list.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getSrcs() srcs} list.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableList.builder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getSrcs() srcs} list.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link JsBundleGenruleDescription.AbstractJsBundleGenruleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link JsBundleGenruleDescriptionArg JsBundleGenruleDescriptionArg}.
+     * @return An immutable instance of JsBundleGenruleDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JsBundleGenruleDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new JsBundleGenruleDescriptionArg(this);
+    }
+
+    private boolean rewriteSourcemapIsSet() {
+      return (optBits & OPT_BIT_REWRITE_SOURCEMAP) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_JS_BUNDLE) != 0) attributes.add("jsBundle");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build JsBundleGenruleDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
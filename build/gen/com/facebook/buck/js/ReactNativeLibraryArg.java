@@ -0,0 +1,840 @@
+package com.facebook.buck.js;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Either;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasSrcs;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractReactNativeLibraryArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ReactNativeLibraryArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractReactNativeLibraryArg"})
+@Immutable
+public final class ReactNativeLibraryArg implements AbstractReactNativeLibraryArg {
+  private final SourcePath entryPath;
+  private final String bundleName;
+  private final @Nullable Either<String, ImmutableList<String>> packagerFlags;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<SourcePath> srcs;
+
+  private ReactNativeLibraryArg(
+      SourcePath entryPath,
+      String bundleName,
+      @Nullable Either<String, ImmutableList<String>> packagerFlags,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<SourcePath> srcs) {
+    this.entryPath = entryPath;
+    this.bundleName = bundleName;
+    this.packagerFlags = packagerFlags;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.srcs = srcs;
+  }
+
+  /**
+   * @return The value of the {@code entryPath} attribute
+   */
+  @Override
+  public SourcePath getEntryPath() {
+    return entryPath;
+  }
+
+  /**
+   * @return The value of the {@code bundleName} attribute
+   */
+  @Override
+  public String getBundleName() {
+    return bundleName;
+  }
+
+  /**
+   * @return The value of the {@code packagerFlags} attribute
+   */
+  @Override
+  public Optional<Either<String, ImmutableList<String>>> getPackagerFlags() {
+    return Optional.ofNullable(packagerFlags);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractReactNativeLibraryArg#getEntryPath() entryPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for entryPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final ReactNativeLibraryArg withEntryPath(SourcePath value) {
+    if (this.entryPath == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "entryPath");
+    return new ReactNativeLibraryArg(
+        newValue,
+        this.bundleName,
+        this.packagerFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractReactNativeLibraryArg#getBundleName() bundleName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for bundleName
+   * @return A modified copy of the {@code this} object
+   */
+  public final ReactNativeLibraryArg withBundleName(String value) {
+    if (this.bundleName.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "bundleName");
+    return new ReactNativeLibraryArg(
+        this.entryPath,
+        newValue,
+        this.packagerFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractReactNativeLibraryArg#getPackagerFlags() packagerFlags} attribute.
+   * @param value The value for packagerFlags
+   * @return A modified copy of {@code this} object
+   */
+  public final ReactNativeLibraryArg withPackagerFlags(Either<String, ImmutableList<String>> value) {
+    @Nullable Either<String, ImmutableList<String>> newValue = Objects.requireNonNull(value, "packagerFlags");
+    if (this.packagerFlags == newValue) return this;
+    return new ReactNativeLibraryArg(
+        this.entryPath,
+        this.bundleName,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractReactNativeLibraryArg#getPackagerFlags() packagerFlags} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for packagerFlags
+   * @return A modified copy of {@code this} object
+   */
+  public final ReactNativeLibraryArg withPackagerFlags(Optional<? extends Either<String, ImmutableList<String>>> optional) {
+    @Nullable Either<String, ImmutableList<String>> value = optional.orElse(null);
+    if (this.packagerFlags == value) return this;
+    return new ReactNativeLibraryArg(
+        this.entryPath,
+        this.bundleName,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractReactNativeLibraryArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final ReactNativeLibraryArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new ReactNativeLibraryArg(
+        this.entryPath,
+        this.bundleName,
+        this.packagerFlags,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractReactNativeLibraryArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ReactNativeLibraryArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new ReactNativeLibraryArg(
+        this.entryPath,
+        this.bundleName,
+        this.packagerFlags,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractReactNativeLibraryArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ReactNativeLibraryArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new ReactNativeLibraryArg(
+        this.entryPath,
+        this.bundleName,
+        this.packagerFlags,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractReactNativeLibraryArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ReactNativeLibraryArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new ReactNativeLibraryArg(
+        this.entryPath,
+        this.bundleName,
+        this.packagerFlags,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractReactNativeLibraryArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ReactNativeLibraryArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new ReactNativeLibraryArg(
+        this.entryPath,
+        this.bundleName,
+        this.packagerFlags,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractReactNativeLibraryArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ReactNativeLibraryArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new ReactNativeLibraryArg(
+        this.entryPath,
+        this.bundleName,
+        this.packagerFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractReactNativeLibraryArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ReactNativeLibraryArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new ReactNativeLibraryArg(
+        this.entryPath,
+        this.bundleName,
+        this.packagerFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractReactNativeLibraryArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ReactNativeLibraryArg withSrcs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new ReactNativeLibraryArg(
+        this.entryPath,
+        this.bundleName,
+        this.packagerFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractReactNativeLibraryArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ReactNativeLibraryArg withSrcs(Iterable<? extends SourcePath> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new ReactNativeLibraryArg(
+        this.entryPath,
+        this.bundleName,
+        this.packagerFlags,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ReactNativeLibraryArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ReactNativeLibraryArg
+        && equalTo((ReactNativeLibraryArg) another);
+  }
+
+  private boolean equalTo(ReactNativeLibraryArg another) {
+    return entryPath.equals(another.entryPath)
+        && bundleName.equals(another.bundleName)
+        && Objects.equals(packagerFlags, another.packagerFlags)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && srcs.equals(another.srcs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code entryPath}, {@code bundleName}, {@code packagerFlags}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code srcs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + entryPath.hashCode();
+    h += (h << 5) + bundleName.hashCode();
+    h += (h << 5) + Objects.hashCode(packagerFlags);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ReactNativeLibraryArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ReactNativeLibraryArg")
+        .omitNullValues()
+        .add("entryPath", entryPath)
+        .add("bundleName", bundleName)
+        .add("packagerFlags", packagerFlags)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("srcs", srcs)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractReactNativeLibraryArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ReactNativeLibraryArg instance
+   */
+  static ReactNativeLibraryArg copyOf(AbstractReactNativeLibraryArg instance) {
+    if (instance instanceof ReactNativeLibraryArg) {
+      return (ReactNativeLibraryArg) instance;
+    }
+    return ReactNativeLibraryArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ReactNativeLibraryArg ReactNativeLibraryArg}.
+   * @return A new ReactNativeLibraryArg builder
+   */
+  public static ReactNativeLibraryArg.Builder builder() {
+    return new ReactNativeLibraryArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ReactNativeLibraryArg ReactNativeLibraryArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_ENTRY_PATH = 0x1L;
+    private static final long INIT_BIT_BUNDLE_NAME = 0x2L;
+    private static final long INIT_BIT_NAME = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable SourcePath entryPath;
+    private @Nullable String bundleName;
+    private @Nullable Either<String, ImmutableList<String>> packagerFlags;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.js.CoreReactNativeLibraryArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CoreReactNativeLibraryArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasSrcs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasSrcs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ReactNativeLibraryArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ReactNativeLibraryArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractReactNativeLibraryArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractReactNativeLibraryArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof CoreReactNativeLibraryArg) {
+        CoreReactNativeLibraryArg instance = (CoreReactNativeLibraryArg) object;
+        setEntryPath(instance.getEntryPath());
+        Optional<Either<String, ImmutableList<String>>> packagerFlagsOptional = instance.getPackagerFlags();
+        if (packagerFlagsOptional.isPresent()) {
+          setPackagerFlags(packagerFlagsOptional);
+        }
+        setBundleName(instance.getBundleName());
+      }
+      if (object instanceof HasSrcs) {
+        HasSrcs instance = (HasSrcs) object;
+        addAllSrcs(instance.getSrcs());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractReactNativeLibraryArg#getEntryPath() entryPath} attribute.
+     * @param entryPath The value for entryPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEntryPath(SourcePath entryPath) {
+      this.entryPath = Objects.requireNonNull(entryPath, "entryPath");
+      initBits &= ~INIT_BIT_ENTRY_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractReactNativeLibraryArg#getBundleName() bundleName} attribute.
+     * @param bundleName The value for bundleName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBundleName(String bundleName) {
+      this.bundleName = Objects.requireNonNull(bundleName, "bundleName");
+      initBits &= ~INIT_BIT_BUNDLE_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractReactNativeLibraryArg#getPackagerFlags() packagerFlags} to packagerFlags.
+     * @param packagerFlags The value for packagerFlags
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackagerFlags(Either<String, ImmutableList<String>> packagerFlags) {
+      this.packagerFlags = Objects.requireNonNull(packagerFlags, "packagerFlags");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractReactNativeLibraryArg#getPackagerFlags() packagerFlags} to packagerFlags.
+     * @param packagerFlags The value for packagerFlags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackagerFlags(Optional<? extends Either<String, ImmutableList<String>>> packagerFlags) {
+      this.packagerFlags = packagerFlags.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractReactNativeLibraryArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractReactNativeLibraryArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractReactNativeLibraryArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractReactNativeLibraryArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractReactNativeLibraryArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractReactNativeLibraryArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractReactNativeLibraryArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractReactNativeLibraryArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractReactNativeLibraryArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractReactNativeLibraryArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractReactNativeLibraryArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractReactNativeLibraryArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractReactNativeLibraryArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractReactNativeLibraryArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractReactNativeLibraryArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractReactNativeLibraryArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractReactNativeLibraryArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ReactNativeLibraryArg ReactNativeLibraryArg}.
+     * @return An immutable instance of ReactNativeLibraryArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ReactNativeLibraryArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ReactNativeLibraryArg(
+          entryPath,
+          bundleName,
+          packagerFlags,
+          name,
+          licenses.build(),
+          labels.build(),
+          deps.build(),
+          srcs.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_ENTRY_PATH) != 0) attributes.add("entryPath");
+      if ((initBits & INIT_BIT_BUNDLE_NAME) != 0) attributes.add("bundleName");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build ReactNativeLibraryArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,237 @@
+package com.facebook.buck.json;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractBuildFileParseExceptionData}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code BuildFileParseExceptionData.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildFileParseExceptionData"})
+@Immutable
+public final class BuildFileParseExceptionData
+    implements AbstractBuildFileParseExceptionData {
+  private final String type;
+  private final String value;
+  private final @Nullable BuildFileSyntaxError syntaxError;
+  private final ImmutableList<BuildFileParseExceptionStackTraceEntry> stackTrace;
+
+  private BuildFileParseExceptionData(
+      String type,
+      String value,
+      Optional<? extends BuildFileSyntaxError> syntaxError,
+      Iterable<? extends BuildFileParseExceptionStackTraceEntry> stackTrace) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.value = Objects.requireNonNull(value, "value");
+    this.syntaxError = syntaxError.orElse(null);
+    this.stackTrace = ImmutableList.copyOf(stackTrace);
+  }
+
+  private BuildFileParseExceptionData(
+      BuildFileParseExceptionData original,
+      String type,
+      String value,
+      @Nullable BuildFileSyntaxError syntaxError,
+      ImmutableList<BuildFileParseExceptionStackTraceEntry> stackTrace) {
+    this.type = type;
+    this.value = value;
+    this.syntaxError = syntaxError;
+    this.stackTrace = stackTrace;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code value} attribute
+   */
+  @Override
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * @return The value of the {@code syntaxError} attribute
+   */
+  @Override
+  public Optional<BuildFileSyntaxError> getSyntaxError() {
+    return Optional.ofNullable(syntaxError);
+  }
+
+  /**
+   * @return The value of the {@code stackTrace} attribute
+   */
+  @Override
+  public ImmutableList<BuildFileParseExceptionStackTraceEntry> getStackTrace() {
+    return stackTrace;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildFileParseExceptionData#getType() type} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildFileParseExceptionData withType(String value) {
+    if (this.type.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "type");
+    return new BuildFileParseExceptionData(this, newValue, this.value, this.syntaxError, this.stackTrace);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildFileParseExceptionData#getValue() value} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for value
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildFileParseExceptionData withValue(String value) {
+    if (this.value.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "value");
+    return new BuildFileParseExceptionData(this, this.type, newValue, this.syntaxError, this.stackTrace);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractBuildFileParseExceptionData#getSyntaxError() syntaxError} attribute.
+   * @param value The value for syntaxError
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildFileParseExceptionData withSyntaxError(BuildFileSyntaxError value) {
+    @Nullable BuildFileSyntaxError newValue = Objects.requireNonNull(value, "syntaxError");
+    if (this.syntaxError == newValue) return this;
+    return new BuildFileParseExceptionData(this, this.type, this.value, newValue, this.stackTrace);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractBuildFileParseExceptionData#getSyntaxError() syntaxError} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for syntaxError
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildFileParseExceptionData withSyntaxError(Optional<? extends BuildFileSyntaxError> optional) {
+    @Nullable BuildFileSyntaxError value = optional.orElse(null);
+    if (this.syntaxError == value) return this;
+    return new BuildFileParseExceptionData(this, this.type, this.value, value, this.stackTrace);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractBuildFileParseExceptionData#getStackTrace() stackTrace}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildFileParseExceptionData withStackTrace(BuildFileParseExceptionStackTraceEntry... elements) {
+    ImmutableList<BuildFileParseExceptionStackTraceEntry> newValue = ImmutableList.copyOf(elements);
+    return new BuildFileParseExceptionData(this, this.type, this.value, this.syntaxError, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractBuildFileParseExceptionData#getStackTrace() stackTrace}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of stackTrace elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildFileParseExceptionData withStackTrace(Iterable<? extends BuildFileParseExceptionStackTraceEntry> elements) {
+    if (this.stackTrace == elements) return this;
+    ImmutableList<BuildFileParseExceptionStackTraceEntry> newValue = ImmutableList.copyOf(elements);
+    return new BuildFileParseExceptionData(this, this.type, this.value, this.syntaxError, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildFileParseExceptionData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildFileParseExceptionData
+        && equalTo((BuildFileParseExceptionData) another);
+  }
+
+  private boolean equalTo(BuildFileParseExceptionData another) {
+    return type.equals(another.type)
+        && value.equals(another.value)
+        && Objects.equals(syntaxError, another.syntaxError)
+        && stackTrace.equals(another.stackTrace);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code value}, {@code syntaxError}, {@code stackTrace}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + value.hashCode();
+    h += (h << 5) + Objects.hashCode(syntaxError);
+    h += (h << 5) + stackTrace.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildFileParseExceptionData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildFileParseExceptionData")
+        .omitNullValues()
+        .add("type", type)
+        .add("value", value)
+        .add("syntaxError", syntaxError)
+        .add("stackTrace", stackTrace)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFileParseExceptionData} instance.
+   * @param type The value for the {@code type} attribute
+   * @param value The value for the {@code value} attribute
+   * @param syntaxError The value for the {@code syntaxError} attribute
+   * @param stackTrace The value for the {@code stackTrace} attribute
+   * @return An immutable BuildFileParseExceptionData instance
+   */
+  public static BuildFileParseExceptionData of(String type, String value, Optional<BuildFileSyntaxError> syntaxError, ImmutableList<BuildFileParseExceptionStackTraceEntry> stackTrace) {
+    return of(type, value, syntaxError, (Iterable<? extends BuildFileParseExceptionStackTraceEntry>) stackTrace);
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFileParseExceptionData} instance.
+   * @param type The value for the {@code type} attribute
+   * @param value The value for the {@code value} attribute
+   * @param syntaxError The value for the {@code syntaxError} attribute
+   * @param stackTrace The value for the {@code stackTrace} attribute
+   * @return An immutable BuildFileParseExceptionData instance
+   */
+  public static BuildFileParseExceptionData of(String type, String value, Optional<? extends BuildFileSyntaxError> syntaxError, Iterable<? extends BuildFileParseExceptionStackTraceEntry> stackTrace) {
+    return new BuildFileParseExceptionData(type, value, syntaxError, stackTrace);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBuildFileParseExceptionData} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildFileParseExceptionData instance
+   */
+  static BuildFileParseExceptionData copyOf(AbstractBuildFileParseExceptionData instance) {
+    if (instance instanceof BuildFileParseExceptionData) {
+      return (BuildFileParseExceptionData) instance;
+    }
+    return BuildFileParseExceptionData.of(instance.getType(), instance.getValue(), instance.getSyntaxError(), instance.getStackTrace());
+  }
+}
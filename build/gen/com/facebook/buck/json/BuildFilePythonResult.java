@@ -0,0 +1,268 @@
+package com.facebook.buck.json;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable value type used to hold the parsed and deserialized output of {@code buck.py}.
+ * <p>{@see BuildFilePythonResultDeserializer} which specializes in deserializing this type from
+ * JSON.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildFilePythonResult"})
+@Immutable
+public final class BuildFilePythonResult implements AbstractBuildFilePythonResult {
+  private final ImmutableList<Map<String, Object>> values;
+  private final ImmutableList<Map<String, Object>> diagnostics;
+  private final @Nullable String profile;
+
+  private BuildFilePythonResult(
+      Iterable<? extends Map<String, Object>> values,
+      Iterable<? extends Map<String, Object>> diagnostics,
+      Optional<String> profile) {
+    this.values = ImmutableList.copyOf(values);
+    this.diagnostics = ImmutableList.copyOf(diagnostics);
+    this.profile = profile.orElse(null);
+  }
+
+  private BuildFilePythonResult(
+      BuildFilePythonResult original,
+      ImmutableList<Map<String, Object>> values,
+      ImmutableList<Map<String, Object>> diagnostics,
+      @Nullable String profile) {
+    this.values = values;
+    this.diagnostics = diagnostics;
+    this.profile = profile;
+  }
+
+  /**
+   * @return The value of the {@code values} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableList<Map<String, Object>> getValues() {
+    return values;
+  }
+
+  /**
+   * @return The value of the {@code diagnostics} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableList<Map<String, Object>> getDiagnostics() {
+    return diagnostics;
+  }
+
+  /**
+   * @return The value of the {@code profile} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> getProfile() {
+    return Optional.ofNullable(profile);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractBuildFilePythonResult#getValues() values}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  @SafeVarargs @SuppressWarnings("varargs")
+  public final BuildFilePythonResult withValues(Map<String, Object>... elements) {
+    ImmutableList<Map<String, Object>> newValue = ImmutableList.copyOf(elements);
+    return new BuildFilePythonResult(this, newValue, this.diagnostics, this.profile);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractBuildFilePythonResult#getValues() values}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of values elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildFilePythonResult withValues(Iterable<? extends Map<String, Object>> elements) {
+    if (this.values == elements) return this;
+    ImmutableList<Map<String, Object>> newValue = ImmutableList.copyOf(elements);
+    return new BuildFilePythonResult(this, newValue, this.diagnostics, this.profile);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractBuildFilePythonResult#getDiagnostics() diagnostics}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  @SafeVarargs @SuppressWarnings("varargs")
+  public final BuildFilePythonResult withDiagnostics(Map<String, Object>... elements) {
+    ImmutableList<Map<String, Object>> newValue = ImmutableList.copyOf(elements);
+    return new BuildFilePythonResult(this, this.values, newValue, this.profile);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractBuildFilePythonResult#getDiagnostics() diagnostics}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of diagnostics elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildFilePythonResult withDiagnostics(Iterable<? extends Map<String, Object>> elements) {
+    if (this.diagnostics == elements) return this;
+    ImmutableList<Map<String, Object>> newValue = ImmutableList.copyOf(elements);
+    return new BuildFilePythonResult(this, this.values, newValue, this.profile);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractBuildFilePythonResult#getProfile() profile} attribute.
+   * @param value The value for profile
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildFilePythonResult withProfile(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "profile");
+    if (Objects.equals(this.profile, newValue)) return this;
+    return new BuildFilePythonResult(this, this.values, this.diagnostics, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractBuildFilePythonResult#getProfile() profile} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for profile
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildFilePythonResult withProfile(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.profile, value)) return this;
+    return new BuildFilePythonResult(this, this.values, this.diagnostics, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildFilePythonResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildFilePythonResult
+        && equalTo((BuildFilePythonResult) another);
+  }
+
+  private boolean equalTo(BuildFilePythonResult another) {
+    return values.equals(another.values)
+        && diagnostics.equals(another.diagnostics)
+        && Objects.equals(profile, another.profile);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code values}, {@code diagnostics}, {@code profile}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + values.hashCode();
+    h += (h << 5) + diagnostics.hashCode();
+    h += (h << 5) + Objects.hashCode(profile);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildFilePythonResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildFilePythonResult")
+        .omitNullValues()
+        .add("values", values)
+        .add("diagnostics", diagnostics)
+        .add("profile", profile)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json implements AbstractBuildFilePythonResult {
+    @Nullable ImmutableList<Map<String, Object>> values = ImmutableList.of();
+    @Nullable ImmutableList<Map<String, Object>> diagnostics = ImmutableList.of();
+    @Nullable Optional<String> profile = Optional.empty();
+    @JsonProperty
+    public void setValues(ImmutableList<Map<String, Object>> values) {
+      this.values = values;
+    }
+    @JsonProperty
+    public void setDiagnostics(ImmutableList<Map<String, Object>> diagnostics) {
+      this.diagnostics = diagnostics;
+    }
+    @JsonProperty
+    public void setProfile(Optional<String> profile) {
+      this.profile = profile;
+    }
+    @Override
+    public ImmutableList<Map<String, Object>> getValues() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableList<Map<String, Object>> getDiagnostics() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getProfile() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static BuildFilePythonResult fromJson(Json json) {
+    BuildFilePythonResult instance = BuildFilePythonResult.of(json.values, json.diagnostics, json.profile);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFilePythonResult} instance.
+   * @param values The value for the {@code values} attribute
+   * @param diagnostics The value for the {@code diagnostics} attribute
+   * @param profile The value for the {@code profile} attribute
+   * @return An immutable BuildFilePythonResult instance
+   */
+  public static BuildFilePythonResult of(ImmutableList<Map<String, Object>> values, ImmutableList<Map<String, Object>> diagnostics, Optional<String> profile) {
+    return of((Iterable<? extends Map<String, Object>>) values, (Iterable<? extends Map<String, Object>>) diagnostics, profile);
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFilePythonResult} instance.
+   * @param values The value for the {@code values} attribute
+   * @param diagnostics The value for the {@code diagnostics} attribute
+   * @param profile The value for the {@code profile} attribute
+   * @return An immutable BuildFilePythonResult instance
+   */
+  public static BuildFilePythonResult of(Iterable<? extends Map<String, Object>> values, Iterable<? extends Map<String, Object>> diagnostics, Optional<String> profile) {
+    return new BuildFilePythonResult(values, diagnostics, profile);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBuildFilePythonResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildFilePythonResult instance
+   */
+  static BuildFilePythonResult copyOf(AbstractBuildFilePythonResult instance) {
+    if (instance instanceof BuildFilePythonResult) {
+      return (BuildFilePythonResult) instance;
+    }
+    return BuildFilePythonResult.of(instance.getValues(), instance.getDiagnostics(), instance.getProfile());
+  }
+}
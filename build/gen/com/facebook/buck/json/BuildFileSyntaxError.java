@@ -0,0 +1,214 @@
+package com.facebook.buck.json;
+
+import com.google.common.base.MoreObjects;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractBuildFileSyntaxError}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code BuildFileSyntaxError.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildFileSyntaxError"})
+@Immutable
+public final class BuildFileSyntaxError implements AbstractBuildFileSyntaxError {
+  private final Path fileName;
+  private final Number lineNumber;
+  private final @Nullable Number offset;
+  private final String text;
+
+  private BuildFileSyntaxError(
+      Path fileName,
+      Number lineNumber,
+      Optional<? extends Number> offset,
+      String text) {
+    this.fileName = Objects.requireNonNull(fileName, "fileName");
+    this.lineNumber = Objects.requireNonNull(lineNumber, "lineNumber");
+    this.offset = offset.orElse(null);
+    this.text = Objects.requireNonNull(text, "text");
+  }
+
+  private BuildFileSyntaxError(
+      BuildFileSyntaxError original,
+      Path fileName,
+      Number lineNumber,
+      @Nullable Number offset,
+      String text) {
+    this.fileName = fileName;
+    this.lineNumber = lineNumber;
+    this.offset = offset;
+    this.text = text;
+  }
+
+  /**
+   * @return The value of the {@code fileName} attribute
+   */
+  @Override
+  public Path getFileName() {
+    return fileName;
+  }
+
+  /**
+   * @return The value of the {@code lineNumber} attribute
+   */
+  @Override
+  public Number getLineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * @return The value of the {@code offset} attribute
+   */
+  @Override
+  public Optional<Number> getOffset() {
+    return Optional.ofNullable(offset);
+  }
+
+  /**
+   * @return The value of the {@code text} attribute
+   */
+  @Override
+  public String getText() {
+    return text;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildFileSyntaxError#getFileName() fileName} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fileName
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildFileSyntaxError withFileName(Path value) {
+    if (this.fileName == value) return this;
+    Path newValue = Objects.requireNonNull(value, "fileName");
+    return new BuildFileSyntaxError(this, newValue, this.lineNumber, this.offset, this.text);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildFileSyntaxError#getLineNumber() lineNumber} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for lineNumber
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildFileSyntaxError withLineNumber(Number value) {
+    if (this.lineNumber == value) return this;
+    Number newValue = Objects.requireNonNull(value, "lineNumber");
+    return new BuildFileSyntaxError(this, this.fileName, newValue, this.offset, this.text);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractBuildFileSyntaxError#getOffset() offset} attribute.
+   * @param value The value for offset
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildFileSyntaxError withOffset(Number value) {
+    @Nullable Number newValue = Objects.requireNonNull(value, "offset");
+    if (this.offset == newValue) return this;
+    return new BuildFileSyntaxError(this, this.fileName, this.lineNumber, newValue, this.text);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractBuildFileSyntaxError#getOffset() offset} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for offset
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildFileSyntaxError withOffset(Optional<? extends Number> optional) {
+    @Nullable Number value = optional.orElse(null);
+    if (this.offset == value) return this;
+    return new BuildFileSyntaxError(this, this.fileName, this.lineNumber, value, this.text);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildFileSyntaxError#getText() text} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for text
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildFileSyntaxError withText(String value) {
+    if (this.text.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "text");
+    return new BuildFileSyntaxError(this, this.fileName, this.lineNumber, this.offset, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildFileSyntaxError} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildFileSyntaxError
+        && equalTo((BuildFileSyntaxError) another);
+  }
+
+  private boolean equalTo(BuildFileSyntaxError another) {
+    return fileName.equals(another.fileName)
+        && lineNumber.equals(another.lineNumber)
+        && Objects.equals(offset, another.offset)
+        && text.equals(another.text);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code fileName}, {@code lineNumber}, {@code offset}, {@code text}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + fileName.hashCode();
+    h += (h << 5) + lineNumber.hashCode();
+    h += (h << 5) + Objects.hashCode(offset);
+    h += (h << 5) + text.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildFileSyntaxError} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildFileSyntaxError")
+        .omitNullValues()
+        .add("fileName", fileName)
+        .add("lineNumber", lineNumber)
+        .add("offset", offset)
+        .add("text", text)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFileSyntaxError} instance.
+   * @param fileName The value for the {@code fileName} attribute
+   * @param lineNumber The value for the {@code lineNumber} attribute
+   * @param offset The value for the {@code offset} attribute
+   * @param text The value for the {@code text} attribute
+   * @return An immutable BuildFileSyntaxError instance
+   */
+  public static BuildFileSyntaxError of(Path fileName, Number lineNumber, Optional<? extends Number> offset, String text) {
+    return new BuildFileSyntaxError(fileName, lineNumber, offset, text);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBuildFileSyntaxError} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildFileSyntaxError instance
+   */
+  static BuildFileSyntaxError copyOf(AbstractBuildFileSyntaxError instance) {
+    if (instance instanceof BuildFileSyntaxError) {
+      return (BuildFileSyntaxError) instance;
+    }
+    return BuildFileSyntaxError.of(instance.getFileName(), instance.getLineNumber(), instance.getOffset(), instance.getText());
+  }
+}
@@ -0,0 +1,37 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.jvm.java;
+
+public final class AbstractAnnotationProcessingParams_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("getOwnerTarget()", "getLegacyProcessors()", "getModernProcessors()", "getParameters()", "getProcessOnly()"));
+
+  @java.lang.Override
+  public java.lang.Class<?> getTargetClass() {
+    return com.facebook.buck.jvm.java.AbstractAnnotationProcessingParams.class;
+  }
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        return ((com.facebook.buck.jvm.java.AbstractAnnotationProcessingParams) instance).getOwnerTarget();
+      case 1:
+        return ((com.facebook.buck.jvm.java.AbstractAnnotationProcessingParams) instance).getLegacyProcessors();
+      case 2:
+        return ((com.facebook.buck.jvm.java.AbstractAnnotationProcessingParams) instance).getModernProcessors();
+      case 3:
+        return ((com.facebook.buck.jvm.java.AbstractAnnotationProcessingParams) instance).getParameters();
+      case 4:
+        return ((com.facebook.buck.jvm.java.AbstractAnnotationProcessingParams) instance).getProcessOnly();
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+}
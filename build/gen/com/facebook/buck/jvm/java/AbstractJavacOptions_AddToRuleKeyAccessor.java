@@ -0,0 +1,43 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.jvm.java;
+
+public final class AbstractJavacOptions_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("getSpoolMode()", "getSourceLevel()", "getTargetLevel()", "getAnnotationProcessingParams()", "getExtraArguments()", "getBootclasspath()", "isDebug()", "trackClassUsage()"));
+
+  @java.lang.Override
+  public java.lang.Class<?> getTargetClass() {
+    return com.facebook.buck.jvm.java.AbstractJavacOptions.class;
+  }
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        return ((com.facebook.buck.jvm.java.AbstractJavacOptions) instance).getSpoolMode();
+      case 1:
+        return ((com.facebook.buck.jvm.java.AbstractJavacOptions) instance).getSourceLevel();
+      case 2:
+        return ((com.facebook.buck.jvm.java.AbstractJavacOptions) instance).getTargetLevel();
+      case 3:
+        return ((com.facebook.buck.jvm.java.AbstractJavacOptions) instance).getAnnotationProcessingParams();
+      case 4:
+        return ((com.facebook.buck.jvm.java.AbstractJavacOptions) instance).getExtraArguments();
+      case 5:
+        return ((com.facebook.buck.jvm.java.AbstractJavacOptions) instance).getBootclasspath();
+      case 6:
+        return ((com.facebook.buck.jvm.java.AbstractJavacOptions) instance).isDebug();
+      case 7:
+        return ((com.facebook.buck.jvm.java.AbstractJavacOptions) instance).trackClassUsage();
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+}
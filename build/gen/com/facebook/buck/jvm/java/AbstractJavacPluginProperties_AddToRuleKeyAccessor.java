@@ -0,0 +1,37 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.jvm.java;
+
+public final class AbstractJavacPluginProperties_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("getProcessorNames()", "getInputs()", "getCanReuseClassLoader()", "getDoesNotAffectAbi()", "getSupportsAbiGenerationFromSource()"));
+
+  @java.lang.Override
+  public java.lang.Class<?> getTargetClass() {
+    return com.facebook.buck.jvm.java.AbstractJavacPluginProperties.class;
+  }
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        return ((com.facebook.buck.jvm.java.AbstractJavacPluginProperties) instance).getProcessorNames();
+      case 1:
+        return ((com.facebook.buck.jvm.java.AbstractJavacPluginProperties) instance).getInputs();
+      case 2:
+        return ((com.facebook.buck.jvm.java.AbstractJavacPluginProperties) instance).getCanReuseClassLoader();
+      case 3:
+        return ((com.facebook.buck.jvm.java.AbstractJavacPluginProperties) instance).getDoesNotAffectAbi();
+      case 4:
+        return ((com.facebook.buck.jvm.java.AbstractJavacPluginProperties) instance).getSupportsAbiGenerationFromSource();
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+}
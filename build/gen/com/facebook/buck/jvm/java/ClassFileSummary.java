@@ -0,0 +1,530 @@
+package com.facebook.buck.jvm.java;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * What incremental compilation needs to know about a class file: the classes it refers to, and
+ * hashes of the parts of it other classes can depend on.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractClassFileSummary"})
+@Immutable
+public final class ClassFileSummary extends AbstractClassFileSummary {
+  private final String name;
+  private final @Nullable String sourceFileName;
+  private final String abiHash;
+  private final String constantsHash;
+  private final ImmutableSortedSet<String> supertypes;
+  private final ImmutableSortedSet<String> referencedClasses;
+
+  private ClassFileSummary(
+      String name,
+      @Nullable String sourceFileName,
+      String abiHash,
+      String constantsHash,
+      ImmutableSortedSet<String> supertypes,
+      ImmutableSortedSet<String> referencedClasses) {
+    this.name = name;
+    this.sourceFileName = sourceFileName;
+    this.abiHash = abiHash;
+    this.constantsHash = constantsHash;
+    this.supertypes = supertypes;
+    this.referencedClasses = referencedClasses;
+  }
+
+  /**
+   *@return the internal name of the class. 
+   */
+  @JsonProperty
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   *@return the name of the source file the class was compiled from, without its directory. 
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> getSourceFileName() {
+    return Optional.ofNullable(sourceFileName);
+  }
+
+  /**
+   * @return a hash of the non-private API of the class: its declaration, the signatures of its
+   *     non-private fields and methods and the annotations on all of them.
+   */
+  @JsonProperty
+  @Override
+  public String getAbiHash() {
+    return abiHash;
+  }
+
+  /**
+   * @return a hash of the values of the constants of the class, which javac copies into the
+   *     classes using them instead of referring to them.
+   */
+  @JsonProperty
+  @Override
+  public String getConstantsHash() {
+    return constantsHash;
+  }
+
+  /**
+   *@return the internal names of the superclass and the interfaces of the class. 
+   */
+  @JsonProperty
+  @Override
+  public ImmutableSortedSet<String> getSupertypes() {
+    return supertypes;
+  }
+
+  /**
+   *@return the internal names of the classes outside of {@code java.*} the class refers to. 
+   */
+  @JsonProperty
+  @Override
+  public ImmutableSortedSet<String> getReferencedClasses() {
+    return referencedClasses;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractClassFileSummary#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final ClassFileSummary withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new ClassFileSummary(
+        newValue,
+        this.sourceFileName,
+        this.abiHash,
+        this.constantsHash,
+        this.supertypes,
+        this.referencedClasses);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractClassFileSummary#getSourceFileName() sourceFileName} attribute.
+   * @param value The value for sourceFileName
+   * @return A modified copy of {@code this} object
+   */
+  public final ClassFileSummary withSourceFileName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "sourceFileName");
+    if (Objects.equals(this.sourceFileName, newValue)) return this;
+    return new ClassFileSummary(this.name, newValue, this.abiHash, this.constantsHash, this.supertypes, this.referencedClasses);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractClassFileSummary#getSourceFileName() sourceFileName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sourceFileName
+   * @return A modified copy of {@code this} object
+   */
+  public final ClassFileSummary withSourceFileName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.sourceFileName, value)) return this;
+    return new ClassFileSummary(this.name, value, this.abiHash, this.constantsHash, this.supertypes, this.referencedClasses);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractClassFileSummary#getAbiHash() abiHash} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for abiHash
+   * @return A modified copy of the {@code this} object
+   */
+  public final ClassFileSummary withAbiHash(String value) {
+    if (this.abiHash.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "abiHash");
+    return new ClassFileSummary(
+        this.name,
+        this.sourceFileName,
+        newValue,
+        this.constantsHash,
+        this.supertypes,
+        this.referencedClasses);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractClassFileSummary#getConstantsHash() constantsHash} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for constantsHash
+   * @return A modified copy of the {@code this} object
+   */
+  public final ClassFileSummary withConstantsHash(String value) {
+    if (this.constantsHash.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "constantsHash");
+    return new ClassFileSummary(this.name, this.sourceFileName, this.abiHash, newValue, this.supertypes, this.referencedClasses);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractClassFileSummary#getSupertypes() supertypes} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for supertypes
+   * @return A modified copy of the {@code this} object
+   */
+  public final ClassFileSummary withSupertypes(ImmutableSortedSet<String> value) {
+    if (this.supertypes == value) return this;
+    ImmutableSortedSet<String> newValue = Objects.requireNonNull(value, "supertypes");
+    return new ClassFileSummary(
+        this.name,
+        this.sourceFileName,
+        this.abiHash,
+        this.constantsHash,
+        newValue,
+        this.referencedClasses);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractClassFileSummary#getReferencedClasses() referencedClasses} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for referencedClasses
+   * @return A modified copy of the {@code this} object
+   */
+  public final ClassFileSummary withReferencedClasses(ImmutableSortedSet<String> value) {
+    if (this.referencedClasses == value) return this;
+    ImmutableSortedSet<String> newValue = Objects.requireNonNull(value, "referencedClasses");
+    return new ClassFileSummary(this.name, this.sourceFileName, this.abiHash, this.constantsHash, this.supertypes, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ClassFileSummary} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ClassFileSummary
+        && equalTo((ClassFileSummary) another);
+  }
+
+  private boolean equalTo(ClassFileSummary another) {
+    return name.equals(another.name)
+        && Objects.equals(sourceFileName, another.sourceFileName)
+        && abiHash.equals(another.abiHash)
+        && constantsHash.equals(another.constantsHash)
+        && supertypes.equals(another.supertypes)
+        && referencedClasses.equals(another.referencedClasses);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code sourceFileName}, {@code abiHash}, {@code constantsHash}, {@code supertypes}, {@code referencedClasses}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + Objects.hashCode(sourceFileName);
+    h += (h << 5) + abiHash.hashCode();
+    h += (h << 5) + constantsHash.hashCode();
+    h += (h << 5) + supertypes.hashCode();
+    h += (h << 5) + referencedClasses.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ClassFileSummary} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ClassFileSummary")
+        .omitNullValues()
+        .add("name", name)
+        .add("sourceFileName", sourceFileName)
+        .add("abiHash", abiHash)
+        .add("constantsHash", constantsHash)
+        .add("supertypes", supertypes)
+        .add("referencedClasses", referencedClasses)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractClassFileSummary {
+    @Nullable String name;
+    @Nullable Optional<String> sourceFileName = Optional.empty();
+    @Nullable String abiHash;
+    @Nullable String constantsHash;
+    @Nullable ImmutableSortedSet<String> supertypes;
+    @Nullable ImmutableSortedSet<String> referencedClasses;
+    @JsonProperty
+    public void setName(String name) {
+      this.name = name;
+    }
+    @JsonProperty
+    public void setSourceFileName(Optional<String> sourceFileName) {
+      this.sourceFileName = sourceFileName;
+    }
+    @JsonProperty
+    public void setAbiHash(String abiHash) {
+      this.abiHash = abiHash;
+    }
+    @JsonProperty
+    public void setConstantsHash(String constantsHash) {
+      this.constantsHash = constantsHash;
+    }
+    @JsonProperty
+    public void setSupertypes(ImmutableSortedSet<String> supertypes) {
+      this.supertypes = supertypes;
+    }
+    @JsonProperty
+    public void setReferencedClasses(ImmutableSortedSet<String> referencedClasses) {
+      this.referencedClasses = referencedClasses;
+    }
+    @Override
+    public String getName() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getSourceFileName() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getAbiHash() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getConstantsHash() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableSortedSet<String> getSupertypes() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableSortedSet<String> getReferencedClasses() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ClassFileSummary fromJson(Json json) {
+    ClassFileSummary.Builder builder = ClassFileSummary.builder();
+    if (json.name != null) {
+      builder.setName(json.name);
+    }
+    if (json.sourceFileName != null) {
+      builder.setSourceFileName(json.sourceFileName);
+    }
+    if (json.abiHash != null) {
+      builder.setAbiHash(json.abiHash);
+    }
+    if (json.constantsHash != null) {
+      builder.setConstantsHash(json.constantsHash);
+    }
+    if (json.supertypes != null) {
+      builder.setSupertypes(json.supertypes);
+    }
+    if (json.referencedClasses != null) {
+      builder.setReferencedClasses(json.referencedClasses);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractClassFileSummary} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ClassFileSummary instance
+   */
+  static ClassFileSummary copyOf(AbstractClassFileSummary instance) {
+    if (instance instanceof ClassFileSummary) {
+      return (ClassFileSummary) instance;
+    }
+    return ClassFileSummary.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ClassFileSummary ClassFileSummary}.
+   * @return A new ClassFileSummary builder
+   */
+  public static ClassFileSummary.Builder builder() {
+    return new ClassFileSummary.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ClassFileSummary ClassFileSummary}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long INIT_BIT_ABI_HASH = 0x2L;
+    private static final long INIT_BIT_CONSTANTS_HASH = 0x4L;
+    private static final long INIT_BIT_SUPERTYPES = 0x8L;
+    private static final long INIT_BIT_REFERENCED_CLASSES = 0x10L;
+    private long initBits = 0x1fL;
+
+    private @Nullable String name;
+    private @Nullable String sourceFileName;
+    private @Nullable String abiHash;
+    private @Nullable String constantsHash;
+    private @Nullable ImmutableSortedSet<String> supertypes;
+    private @Nullable ImmutableSortedSet<String> referencedClasses;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ClassFileSummary} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ClassFileSummary instance) {
+      return from((AbstractClassFileSummary) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractClassFileSummary} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractClassFileSummary instance) {
+      Objects.requireNonNull(instance, "instance");
+      setName(instance.getName());
+      Optional<String> sourceFileNameOptional = instance.getSourceFileName();
+      if (sourceFileNameOptional.isPresent()) {
+        setSourceFileName(sourceFileNameOptional);
+      }
+      setAbiHash(instance.getAbiHash());
+      setConstantsHash(instance.getConstantsHash());
+      setSupertypes(instance.getSupertypes());
+      setReferencedClasses(instance.getReferencedClasses());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractClassFileSummary#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractClassFileSummary#getSourceFileName() sourceFileName} to sourceFileName.
+     * @param sourceFileName The value for sourceFileName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceFileName(String sourceFileName) {
+      this.sourceFileName = Objects.requireNonNull(sourceFileName, "sourceFileName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractClassFileSummary#getSourceFileName() sourceFileName} to sourceFileName.
+     * @param sourceFileName The value for sourceFileName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setSourceFileName(Optional<String> sourceFileName) {
+      this.sourceFileName = sourceFileName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractClassFileSummary#getAbiHash() abiHash} attribute.
+     * @param abiHash The value for abiHash 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setAbiHash(String abiHash) {
+      this.abiHash = Objects.requireNonNull(abiHash, "abiHash");
+      initBits &= ~INIT_BIT_ABI_HASH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClassFileSummary#getConstantsHash() constantsHash} attribute.
+     * @param constantsHash The value for constantsHash 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setConstantsHash(String constantsHash) {
+      this.constantsHash = Objects.requireNonNull(constantsHash, "constantsHash");
+      initBits &= ~INIT_BIT_CONSTANTS_HASH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClassFileSummary#getSupertypes() supertypes} attribute.
+     * @param supertypes The value for supertypes 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setSupertypes(ImmutableSortedSet<String> supertypes) {
+      this.supertypes = Objects.requireNonNull(supertypes, "supertypes");
+      initBits &= ~INIT_BIT_SUPERTYPES;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClassFileSummary#getReferencedClasses() referencedClasses} attribute.
+     * @param referencedClasses The value for referencedClasses 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setReferencedClasses(ImmutableSortedSet<String> referencedClasses) {
+      this.referencedClasses = Objects.requireNonNull(referencedClasses, "referencedClasses");
+      initBits &= ~INIT_BIT_REFERENCED_CLASSES;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link ClassFileSummary ClassFileSummary}.
+     * @return An immutable instance of ClassFileSummary
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ClassFileSummary build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ClassFileSummary(name, sourceFileName, abiHash, constantsHash, supertypes, referencedClasses);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      if ((initBits & INIT_BIT_ABI_HASH) != 0) attributes.add("abiHash");
+      if ((initBits & INIT_BIT_CONSTANTS_HASH) != 0) attributes.add("constantsHash");
+      if ((initBits & INIT_BIT_SUPERTYPES) != 0) attributes.add("supertypes");
+      if ((initBits & INIT_BIT_REFERENCED_CLASSES) != 0) attributes.add("referencedClasses");
+      return "Cannot build ClassFileSummary, some of required attributes are not set " + attributes;
+    }
+  }
+}
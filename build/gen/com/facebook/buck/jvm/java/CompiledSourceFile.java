@@ -0,0 +1,288 @@
+package com.facebook.buck.jvm.java;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *A source file compiled by an incremental compilation, and the classes it was compiled to. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCompiledSourceFile"})
+@Immutable
+public final class CompiledSourceFile extends AbstractCompiledSourceFile {
+  private final String hash;
+  private final ImmutableSortedSet<String> classes;
+
+  private CompiledSourceFile(String hash, ImmutableSortedSet<String> classes) {
+    this.hash = Objects.requireNonNull(hash, "hash");
+    this.classes = Objects.requireNonNull(classes, "classes");
+  }
+
+  private CompiledSourceFile(
+      CompiledSourceFile original,
+      String hash,
+      ImmutableSortedSet<String> classes) {
+    this.hash = hash;
+    this.classes = classes;
+  }
+
+  /**
+   *@return the hash of the contents of the source file. 
+   */
+  @JsonProperty
+  @Override
+  public String getHash() {
+    return hash;
+  }
+
+  /**
+   *@return the internal names of the classes compiled from the source file. 
+   */
+  @JsonProperty
+  @Override
+  public ImmutableSortedSet<String> getClasses() {
+    return classes;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCompiledSourceFile#getHash() hash} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for hash
+   * @return A modified copy of the {@code this} object
+   */
+  public final CompiledSourceFile withHash(String value) {
+    if (this.hash.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "hash");
+    return new CompiledSourceFile(this, newValue, this.classes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCompiledSourceFile#getClasses() classes} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for classes
+   * @return A modified copy of the {@code this} object
+   */
+  public final CompiledSourceFile withClasses(ImmutableSortedSet<String> value) {
+    if (this.classes == value) return this;
+    ImmutableSortedSet<String> newValue = Objects.requireNonNull(value, "classes");
+    return new CompiledSourceFile(this, this.hash, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CompiledSourceFile} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CompiledSourceFile
+        && equalTo((CompiledSourceFile) another);
+  }
+
+  private boolean equalTo(CompiledSourceFile another) {
+    return hash.equals(another.hash)
+        && classes.equals(another.classes);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code hash}, {@code classes}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + hash.hashCode();
+    h += (h << 5) + classes.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CompiledSourceFile} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CompiledSourceFile")
+        .omitNullValues()
+        .add("hash", hash)
+        .add("classes", classes)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractCompiledSourceFile {
+    @Nullable String hash;
+    @Nullable ImmutableSortedSet<String> classes;
+    @JsonProperty
+    public void setHash(String hash) {
+      this.hash = hash;
+    }
+    @JsonProperty
+    public void setClasses(ImmutableSortedSet<String> classes) {
+      this.classes = classes;
+    }
+    @Override
+    public String getHash() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableSortedSet<String> getClasses() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static CompiledSourceFile fromJson(Json json) {
+    CompiledSourceFile.Builder builder = CompiledSourceFile.builder();
+    if (json.hash != null) {
+      builder.setHash(json.hash);
+    }
+    if (json.classes != null) {
+      builder.setClasses(json.classes);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Construct a new immutable {@code CompiledSourceFile} instance.
+   * @param hash The value for the {@code hash} attribute
+   * @param classes The value for the {@code classes} attribute
+   * @return An immutable CompiledSourceFile instance
+   */
+  public static CompiledSourceFile of(String hash, ImmutableSortedSet<String> classes) {
+    return new CompiledSourceFile(hash, classes);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCompiledSourceFile} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CompiledSourceFile instance
+   */
+  static CompiledSourceFile copyOf(AbstractCompiledSourceFile instance) {
+    if (instance instanceof CompiledSourceFile) {
+      return (CompiledSourceFile) instance;
+    }
+    return CompiledSourceFile.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CompiledSourceFile CompiledSourceFile}.
+   * @return A new CompiledSourceFile builder
+   */
+  public static CompiledSourceFile.Builder builder() {
+    return new CompiledSourceFile.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CompiledSourceFile CompiledSourceFile}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_HASH = 0x1L;
+    private static final long INIT_BIT_CLASSES = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String hash;
+    private @Nullable ImmutableSortedSet<String> classes;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CompiledSourceFile} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CompiledSourceFile instance) {
+      return from((AbstractCompiledSourceFile) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCompiledSourceFile} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractCompiledSourceFile instance) {
+      Objects.requireNonNull(instance, "instance");
+      setHash(instance.getHash());
+      setClasses(instance.getClasses());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCompiledSourceFile#getHash() hash} attribute.
+     * @param hash The value for hash 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setHash(String hash) {
+      this.hash = Objects.requireNonNull(hash, "hash");
+      initBits &= ~INIT_BIT_HASH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompiledSourceFile#getClasses() classes} attribute.
+     * @param classes The value for classes 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setClasses(ImmutableSortedSet<String> classes) {
+      this.classes = Objects.requireNonNull(classes, "classes");
+      initBits &= ~INIT_BIT_CLASSES;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link CompiledSourceFile CompiledSourceFile}.
+     * @return An immutable instance of CompiledSourceFile
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CompiledSourceFile build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CompiledSourceFile(null, hash, classes);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_HASH) != 0) attributes.add("hash");
+      if ((initBits & INIT_BIT_CLASSES) != 0) attributes.add("classes");
+      return "Cannot build CompiledSourceFile, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,943 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.jvm.java.abi.source.api.SourceOnlyAbiRuleInfo;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCompilerParameters}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CompilerParameters.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCompilerParameters"})
+@Immutable
+public final class CompilerParameters extends AbstractCompilerParameters {
+  private final ImmutableSortedSet<Path> sourceFilePaths;
+  private final ImmutableSortedSet<Path> classpathEntries;
+  private final Path outputDirectory;
+  private final Path generatedCodeDirectory;
+  private final Path workingDirectory;
+  private final Path depFilePath;
+  private final Path pathToSourcesList;
+  private final @Nullable Path abiJarPath;
+  private final AbiGenerationMode abiGenerationMode;
+  private final boolean shouldTrackClassUsage;
+  private final boolean shouldGenerateAbiJar;
+  private final @Nullable SourceOnlyAbiRuleInfo sourceOnlyAbiRuleInfo;
+
+  private CompilerParameters(CompilerParameters.Builder builder) {
+    this.outputDirectory = builder.outputDirectory;
+    this.generatedCodeDirectory = builder.generatedCodeDirectory;
+    this.workingDirectory = builder.workingDirectory;
+    this.depFilePath = builder.depFilePath;
+    this.pathToSourcesList = builder.pathToSourcesList;
+    this.abiJarPath = builder.abiJarPath;
+    this.sourceOnlyAbiRuleInfo = builder.sourceOnlyAbiRuleInfo;
+    if (builder.sourceFilePaths != null) {
+      initShim.setSourceFilePaths(builder.sourceFilePaths);
+    }
+    if (builder.classpathEntries != null) {
+      initShim.setClasspathEntries(builder.classpathEntries);
+    }
+    if (builder.abiGenerationMode != null) {
+      initShim.setAbiGenerationMode(builder.abiGenerationMode);
+    }
+    if (builder.shouldTrackClassUsageIsSet()) {
+      initShim.setShouldTrackClassUsage(builder.shouldTrackClassUsage);
+    }
+    if (builder.shouldGenerateAbiJarIsSet()) {
+      initShim.setShouldGenerateAbiJar(builder.shouldGenerateAbiJar);
+    }
+    this.sourceFilePaths = initShim.getSourceFilePaths();
+    this.classpathEntries = initShim.getClasspathEntries();
+    this.abiGenerationMode = initShim.getAbiGenerationMode();
+    this.shouldTrackClassUsage = initShim.shouldTrackClassUsage();
+    this.shouldGenerateAbiJar = initShim.shouldGenerateAbiJar();
+    this.initShim = null;
+  }
+
+  private CompilerParameters(
+      ImmutableSortedSet<Path> sourceFilePaths,
+      ImmutableSortedSet<Path> classpathEntries,
+      Path outputDirectory,
+      Path generatedCodeDirectory,
+      Path workingDirectory,
+      Path depFilePath,
+      Path pathToSourcesList,
+      @Nullable Path abiJarPath,
+      AbiGenerationMode abiGenerationMode,
+      boolean shouldTrackClassUsage,
+      boolean shouldGenerateAbiJar,
+      @Nullable SourceOnlyAbiRuleInfo sourceOnlyAbiRuleInfo) {
+    this.sourceFilePaths = sourceFilePaths;
+    this.classpathEntries = classpathEntries;
+    this.outputDirectory = outputDirectory;
+    this.generatedCodeDirectory = generatedCodeDirectory;
+    this.workingDirectory = workingDirectory;
+    this.depFilePath = depFilePath;
+    this.pathToSourcesList = pathToSourcesList;
+    this.abiJarPath = abiJarPath;
+    this.abiGenerationMode = abiGenerationMode;
+    this.shouldTrackClassUsage = shouldTrackClassUsage;
+    this.shouldGenerateAbiJar = shouldGenerateAbiJar;
+    this.sourceOnlyAbiRuleInfo = sourceOnlyAbiRuleInfo;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private ImmutableSortedSet<Path> sourceFilePaths;
+    private int sourceFilePathsBuildStage;
+
+    ImmutableSortedSet<Path> getSourceFilePaths() {
+      if (sourceFilePathsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (sourceFilePathsBuildStage == STAGE_UNINITIALIZED) {
+        sourceFilePathsBuildStage = STAGE_INITIALIZING;
+        this.sourceFilePaths = Objects.requireNonNull(CompilerParameters.super.getSourceFilePaths(), "sourceFilePaths");
+        sourceFilePathsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.sourceFilePaths;
+    }
+
+    void setSourceFilePaths(ImmutableSortedSet<Path> sourceFilePaths) {
+      this.sourceFilePaths = sourceFilePaths;
+      sourceFilePathsBuildStage = STAGE_INITIALIZED;
+    }
+    private ImmutableSortedSet<Path> classpathEntries;
+    private int classpathEntriesBuildStage;
+
+    ImmutableSortedSet<Path> getClasspathEntries() {
+      if (classpathEntriesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (classpathEntriesBuildStage == STAGE_UNINITIALIZED) {
+        classpathEntriesBuildStage = STAGE_INITIALIZING;
+        this.classpathEntries = Objects.requireNonNull(CompilerParameters.super.getClasspathEntries(), "classpathEntries");
+        classpathEntriesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.classpathEntries;
+    }
+
+    void setClasspathEntries(ImmutableSortedSet<Path> classpathEntries) {
+      this.classpathEntries = classpathEntries;
+      classpathEntriesBuildStage = STAGE_INITIALIZED;
+    }
+    private AbiGenerationMode abiGenerationMode;
+    private int abiGenerationModeBuildStage;
+
+    AbiGenerationMode getAbiGenerationMode() {
+      if (abiGenerationModeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (abiGenerationModeBuildStage == STAGE_UNINITIALIZED) {
+        abiGenerationModeBuildStage = STAGE_INITIALIZING;
+        this.abiGenerationMode = Objects.requireNonNull(CompilerParameters.super.getAbiGenerationMode(), "abiGenerationMode");
+        abiGenerationModeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.abiGenerationMode;
+    }
+
+    void setAbiGenerationMode(AbiGenerationMode abiGenerationMode) {
+      this.abiGenerationMode = abiGenerationMode;
+      abiGenerationModeBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean shouldTrackClassUsage;
+    private int shouldTrackClassUsageBuildStage;
+
+    boolean shouldTrackClassUsage() {
+      if (shouldTrackClassUsageBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shouldTrackClassUsageBuildStage == STAGE_UNINITIALIZED) {
+        shouldTrackClassUsageBuildStage = STAGE_INITIALIZING;
+        this.shouldTrackClassUsage = CompilerParameters.super.shouldTrackClassUsage();
+        shouldTrackClassUsageBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shouldTrackClassUsage;
+    }
+
+    void setShouldTrackClassUsage(boolean shouldTrackClassUsage) {
+      this.shouldTrackClassUsage = shouldTrackClassUsage;
+      shouldTrackClassUsageBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean shouldGenerateAbiJar;
+    private int shouldGenerateAbiJarBuildStage;
+
+    boolean shouldGenerateAbiJar() {
+      if (shouldGenerateAbiJarBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shouldGenerateAbiJarBuildStage == STAGE_UNINITIALIZED) {
+        shouldGenerateAbiJarBuildStage = STAGE_INITIALIZING;
+        this.shouldGenerateAbiJar = CompilerParameters.super.shouldGenerateAbiJar();
+        shouldGenerateAbiJarBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shouldGenerateAbiJar;
+    }
+
+    void setShouldGenerateAbiJar(boolean shouldGenerateAbiJar) {
+      this.shouldGenerateAbiJar = shouldGenerateAbiJar;
+      shouldGenerateAbiJarBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (sourceFilePathsBuildStage == STAGE_INITIALIZING) attributes.add("sourceFilePaths");
+      if (classpathEntriesBuildStage == STAGE_INITIALIZING) attributes.add("classpathEntries");
+      if (abiGenerationModeBuildStage == STAGE_INITIALIZING) attributes.add("abiGenerationMode");
+      if (shouldTrackClassUsageBuildStage == STAGE_INITIALIZING) attributes.add("shouldTrackClassUsage");
+      if (shouldGenerateAbiJarBuildStage == STAGE_INITIALIZING) attributes.add("shouldGenerateAbiJar");
+      return "Cannot build CompilerParameters, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code sourceFilePaths} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Path> getSourceFilePaths() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSourceFilePaths()
+        : this.sourceFilePaths;
+  }
+
+  /**
+   * @return The value of the {@code classpathEntries} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Path> getClasspathEntries() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getClasspathEntries()
+        : this.classpathEntries;
+  }
+
+  /**
+   * @return The value of the {@code outputDirectory} attribute
+   */
+  @Override
+  public Path getOutputDirectory() {
+    return outputDirectory;
+  }
+
+  /**
+   * @return The value of the {@code generatedCodeDirectory} attribute
+   */
+  @Override
+  public Path getGeneratedCodeDirectory() {
+    return generatedCodeDirectory;
+  }
+
+  /**
+   * @return The value of the {@code workingDirectory} attribute
+   */
+  @Override
+  public Path getWorkingDirectory() {
+    return workingDirectory;
+  }
+
+  /**
+   * @return The value of the {@code depFilePath} attribute
+   */
+  @Override
+  public Path getDepFilePath() {
+    return depFilePath;
+  }
+
+  /**
+   * @return The value of the {@code pathToSourcesList} attribute
+   */
+  @Override
+  public Path getPathToSourcesList() {
+    return pathToSourcesList;
+  }
+
+  /**
+   * @return The value of the {@code abiJarPath} attribute
+   */
+  @Override
+  public @Nullable Path getAbiJarPath() {
+    return abiJarPath;
+  }
+
+  /**
+   * @return The value of the {@code abiGenerationMode} attribute
+   */
+  @Override
+  public AbiGenerationMode getAbiGenerationMode() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAbiGenerationMode()
+        : this.abiGenerationMode;
+  }
+
+  /**
+   * @return The value of the {@code shouldTrackClassUsage} attribute
+   */
+  @Override
+  public boolean shouldTrackClassUsage() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.shouldTrackClassUsage()
+        : this.shouldTrackClassUsage;
+  }
+
+  /**
+   * @return The value of the {@code shouldGenerateAbiJar} attribute
+   */
+  @Override
+  public boolean shouldGenerateAbiJar() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.shouldGenerateAbiJar()
+        : this.shouldGenerateAbiJar;
+  }
+
+  /**
+   * @return The value of the {@code sourceOnlyAbiRuleInfo} attribute
+   */
+  @Override
+  public @Nullable SourceOnlyAbiRuleInfo getSourceOnlyAbiRuleInfo() {
+    return sourceOnlyAbiRuleInfo;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCompilerParameters#getSourceFilePaths() sourceFilePaths} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sourceFilePaths
+   * @return A modified copy of the {@code this} object
+   */
+  public final CompilerParameters withSourceFilePaths(ImmutableSortedSet<Path> value) {
+    if (this.sourceFilePaths == value) return this;
+    ImmutableSortedSet<Path> newValue = Objects.requireNonNull(value, "sourceFilePaths");
+    return new CompilerParameters(
+        newValue,
+        this.classpathEntries,
+        this.outputDirectory,
+        this.generatedCodeDirectory,
+        this.workingDirectory,
+        this.depFilePath,
+        this.pathToSourcesList,
+        this.abiJarPath,
+        this.abiGenerationMode,
+        this.shouldTrackClassUsage,
+        this.shouldGenerateAbiJar,
+        this.sourceOnlyAbiRuleInfo);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCompilerParameters#getClasspathEntries() classpathEntries} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for classpathEntries
+   * @return A modified copy of the {@code this} object
+   */
+  public final CompilerParameters withClasspathEntries(ImmutableSortedSet<Path> value) {
+    if (this.classpathEntries == value) return this;
+    ImmutableSortedSet<Path> newValue = Objects.requireNonNull(value, "classpathEntries");
+    return new CompilerParameters(
+        this.sourceFilePaths,
+        newValue,
+        this.outputDirectory,
+        this.generatedCodeDirectory,
+        this.workingDirectory,
+        this.depFilePath,
+        this.pathToSourcesList,
+        this.abiJarPath,
+        this.abiGenerationMode,
+        this.shouldTrackClassUsage,
+        this.shouldGenerateAbiJar,
+        this.sourceOnlyAbiRuleInfo);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCompilerParameters#getOutputDirectory() outputDirectory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for outputDirectory
+   * @return A modified copy of the {@code this} object
+   */
+  public final CompilerParameters withOutputDirectory(Path value) {
+    if (this.outputDirectory == value) return this;
+    Path newValue = Objects.requireNonNull(value, "outputDirectory");
+    return new CompilerParameters(
+        this.sourceFilePaths,
+        this.classpathEntries,
+        newValue,
+        this.generatedCodeDirectory,
+        this.workingDirectory,
+        this.depFilePath,
+        this.pathToSourcesList,
+        this.abiJarPath,
+        this.abiGenerationMode,
+        this.shouldTrackClassUsage,
+        this.shouldGenerateAbiJar,
+        this.sourceOnlyAbiRuleInfo);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCompilerParameters#getGeneratedCodeDirectory() generatedCodeDirectory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for generatedCodeDirectory
+   * @return A modified copy of the {@code this} object
+   */
+  public final CompilerParameters withGeneratedCodeDirectory(Path value) {
+    if (this.generatedCodeDirectory == value) return this;
+    Path newValue = Objects.requireNonNull(value, "generatedCodeDirectory");
+    return new CompilerParameters(
+        this.sourceFilePaths,
+        this.classpathEntries,
+        this.outputDirectory,
+        newValue,
+        this.workingDirectory,
+        this.depFilePath,
+        this.pathToSourcesList,
+        this.abiJarPath,
+        this.abiGenerationMode,
+        this.shouldTrackClassUsage,
+        this.shouldGenerateAbiJar,
+        this.sourceOnlyAbiRuleInfo);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCompilerParameters#getWorkingDirectory() workingDirectory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for workingDirectory
+   * @return A modified copy of the {@code this} object
+   */
+  public final CompilerParameters withWorkingDirectory(Path value) {
+    if (this.workingDirectory == value) return this;
+    Path newValue = Objects.requireNonNull(value, "workingDirectory");
+    return new CompilerParameters(
+        this.sourceFilePaths,
+        this.classpathEntries,
+        this.outputDirectory,
+        this.generatedCodeDirectory,
+        newValue,
+        this.depFilePath,
+        this.pathToSourcesList,
+        this.abiJarPath,
+        this.abiGenerationMode,
+        this.shouldTrackClassUsage,
+        this.shouldGenerateAbiJar,
+        this.sourceOnlyAbiRuleInfo);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCompilerParameters#getDepFilePath() depFilePath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for depFilePath
+   * @return A modified copy of the {@code this} object
+   */
+  public final CompilerParameters withDepFilePath(Path value) {
+    if (this.depFilePath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "depFilePath");
+    return new CompilerParameters(
+        this.sourceFilePaths,
+        this.classpathEntries,
+        this.outputDirectory,
+        this.generatedCodeDirectory,
+        this.workingDirectory,
+        newValue,
+        this.pathToSourcesList,
+        this.abiJarPath,
+        this.abiGenerationMode,
+        this.shouldTrackClassUsage,
+        this.shouldGenerateAbiJar,
+        this.sourceOnlyAbiRuleInfo);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCompilerParameters#getPathToSourcesList() pathToSourcesList} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for pathToSourcesList
+   * @return A modified copy of the {@code this} object
+   */
+  public final CompilerParameters withPathToSourcesList(Path value) {
+    if (this.pathToSourcesList == value) return this;
+    Path newValue = Objects.requireNonNull(value, "pathToSourcesList");
+    return new CompilerParameters(
+        this.sourceFilePaths,
+        this.classpathEntries,
+        this.outputDirectory,
+        this.generatedCodeDirectory,
+        this.workingDirectory,
+        this.depFilePath,
+        newValue,
+        this.abiJarPath,
+        this.abiGenerationMode,
+        this.shouldTrackClassUsage,
+        this.shouldGenerateAbiJar,
+        this.sourceOnlyAbiRuleInfo);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCompilerParameters#getAbiJarPath() abiJarPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for abiJarPath (can be {@code null})
+   * @return A modified copy of the {@code this} object
+   */
+  public final CompilerParameters withAbiJarPath(@Nullable Path value) {
+    if (this.abiJarPath == value) return this;
+    return new CompilerParameters(
+        this.sourceFilePaths,
+        this.classpathEntries,
+        this.outputDirectory,
+        this.generatedCodeDirectory,
+        this.workingDirectory,
+        this.depFilePath,
+        this.pathToSourcesList,
+        value,
+        this.abiGenerationMode,
+        this.shouldTrackClassUsage,
+        this.shouldGenerateAbiJar,
+        this.sourceOnlyAbiRuleInfo);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCompilerParameters#getAbiGenerationMode() abiGenerationMode} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for abiGenerationMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final CompilerParameters withAbiGenerationMode(AbiGenerationMode value) {
+    if (this.abiGenerationMode == value) return this;
+    AbiGenerationMode newValue = Objects.requireNonNull(value, "abiGenerationMode");
+    return new CompilerParameters(
+        this.sourceFilePaths,
+        this.classpathEntries,
+        this.outputDirectory,
+        this.generatedCodeDirectory,
+        this.workingDirectory,
+        this.depFilePath,
+        this.pathToSourcesList,
+        this.abiJarPath,
+        newValue,
+        this.shouldTrackClassUsage,
+        this.shouldGenerateAbiJar,
+        this.sourceOnlyAbiRuleInfo);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCompilerParameters#shouldTrackClassUsage() shouldTrackClassUsage} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for shouldTrackClassUsage
+   * @return A modified copy of the {@code this} object
+   */
+  public final CompilerParameters withShouldTrackClassUsage(boolean value) {
+    if (this.shouldTrackClassUsage == value) return this;
+    return new CompilerParameters(
+        this.sourceFilePaths,
+        this.classpathEntries,
+        this.outputDirectory,
+        this.generatedCodeDirectory,
+        this.workingDirectory,
+        this.depFilePath,
+        this.pathToSourcesList,
+        this.abiJarPath,
+        this.abiGenerationMode,
+        value,
+        this.shouldGenerateAbiJar,
+        this.sourceOnlyAbiRuleInfo);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCompilerParameters#shouldGenerateAbiJar() shouldGenerateAbiJar} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for shouldGenerateAbiJar
+   * @return A modified copy of the {@code this} object
+   */
+  public final CompilerParameters withShouldGenerateAbiJar(boolean value) {
+    if (this.shouldGenerateAbiJar == value) return this;
+    return new CompilerParameters(
+        this.sourceFilePaths,
+        this.classpathEntries,
+        this.outputDirectory,
+        this.generatedCodeDirectory,
+        this.workingDirectory,
+        this.depFilePath,
+        this.pathToSourcesList,
+        this.abiJarPath,
+        this.abiGenerationMode,
+        this.shouldTrackClassUsage,
+        value,
+        this.sourceOnlyAbiRuleInfo);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCompilerParameters#getSourceOnlyAbiRuleInfo() sourceOnlyAbiRuleInfo} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sourceOnlyAbiRuleInfo (can be {@code null})
+   * @return A modified copy of the {@code this} object
+   */
+  public final CompilerParameters withSourceOnlyAbiRuleInfo(@Nullable SourceOnlyAbiRuleInfo value) {
+    if (this.sourceOnlyAbiRuleInfo == value) return this;
+    return new CompilerParameters(
+        this.sourceFilePaths,
+        this.classpathEntries,
+        this.outputDirectory,
+        this.generatedCodeDirectory,
+        this.workingDirectory,
+        this.depFilePath,
+        this.pathToSourcesList,
+        this.abiJarPath,
+        this.abiGenerationMode,
+        this.shouldTrackClassUsage,
+        this.shouldGenerateAbiJar,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CompilerParameters} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CompilerParameters
+        && equalTo((CompilerParameters) another);
+  }
+
+  private boolean equalTo(CompilerParameters another) {
+    return sourceFilePaths.equals(another.sourceFilePaths)
+        && classpathEntries.equals(another.classpathEntries)
+        && outputDirectory.equals(another.outputDirectory)
+        && generatedCodeDirectory.equals(another.generatedCodeDirectory)
+        && workingDirectory.equals(another.workingDirectory)
+        && depFilePath.equals(another.depFilePath)
+        && pathToSourcesList.equals(another.pathToSourcesList)
+        && Objects.equals(abiJarPath, another.abiJarPath)
+        && abiGenerationMode.equals(another.abiGenerationMode)
+        && shouldTrackClassUsage == another.shouldTrackClassUsage
+        && shouldGenerateAbiJar == another.shouldGenerateAbiJar
+        && Objects.equals(sourceOnlyAbiRuleInfo, another.sourceOnlyAbiRuleInfo);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sourceFilePaths}, {@code classpathEntries}, {@code outputDirectory}, {@code generatedCodeDirectory}, {@code workingDirectory}, {@code depFilePath}, {@code pathToSourcesList}, {@code abiJarPath}, {@code abiGenerationMode}, {@code shouldTrackClassUsage}, {@code shouldGenerateAbiJar}, {@code sourceOnlyAbiRuleInfo}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + sourceFilePaths.hashCode();
+    h += (h << 5) + classpathEntries.hashCode();
+    h += (h << 5) + outputDirectory.hashCode();
+    h += (h << 5) + generatedCodeDirectory.hashCode();
+    h += (h << 5) + workingDirectory.hashCode();
+    h += (h << 5) + depFilePath.hashCode();
+    h += (h << 5) + pathToSourcesList.hashCode();
+    h += (h << 5) + Objects.hashCode(abiJarPath);
+    h += (h << 5) + abiGenerationMode.hashCode();
+    h += (h << 5) + Booleans.hashCode(shouldTrackClassUsage);
+    h += (h << 5) + Booleans.hashCode(shouldGenerateAbiJar);
+    h += (h << 5) + Objects.hashCode(sourceOnlyAbiRuleInfo);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CompilerParameters} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CompilerParameters")
+        .omitNullValues()
+        .add("sourceFilePaths", sourceFilePaths)
+        .add("classpathEntries", classpathEntries)
+        .add("outputDirectory", outputDirectory)
+        .add("generatedCodeDirectory", generatedCodeDirectory)
+        .add("workingDirectory", workingDirectory)
+        .add("depFilePath", depFilePath)
+        .add("pathToSourcesList", pathToSourcesList)
+        .add("abiJarPath", abiJarPath)
+        .add("abiGenerationMode", abiGenerationMode)
+        .add("shouldTrackClassUsage", shouldTrackClassUsage)
+        .add("shouldGenerateAbiJar", shouldGenerateAbiJar)
+        .add("sourceOnlyAbiRuleInfo", sourceOnlyAbiRuleInfo)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCompilerParameters} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CompilerParameters instance
+   */
+  static CompilerParameters copyOf(AbstractCompilerParameters instance) {
+    if (instance instanceof CompilerParameters) {
+      return (CompilerParameters) instance;
+    }
+    return CompilerParameters.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CompilerParameters CompilerParameters}.
+   * @return A new CompilerParameters builder
+   */
+  public static CompilerParameters.Builder builder() {
+    return new CompilerParameters.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CompilerParameters CompilerParameters}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder 
+      extends AbstractCompilerParameters.Builder {
+    private static final long INIT_BIT_OUTPUT_DIRECTORY = 0x1L;
+    private static final long INIT_BIT_GENERATED_CODE_DIRECTORY = 0x2L;
+    private static final long INIT_BIT_WORKING_DIRECTORY = 0x4L;
+    private static final long INIT_BIT_DEP_FILE_PATH = 0x8L;
+    private static final long INIT_BIT_PATH_TO_SOURCES_LIST = 0x10L;
+    private static final long OPT_BIT_SHOULD_TRACK_CLASS_USAGE = 0x1L;
+    private static final long OPT_BIT_SHOULD_GENERATE_ABI_JAR = 0x2L;
+    private long initBits = 0x1fL;
+    private long optBits;
+
+    private @Nullable ImmutableSortedSet<Path> sourceFilePaths;
+    private @Nullable ImmutableSortedSet<Path> classpathEntries;
+    private @Nullable Path outputDirectory;
+    private @Nullable Path generatedCodeDirectory;
+    private @Nullable Path workingDirectory;
+    private @Nullable Path depFilePath;
+    private @Nullable Path pathToSourcesList;
+    private @Nullable Path abiJarPath;
+    private @Nullable AbiGenerationMode abiGenerationMode;
+    private boolean shouldTrackClassUsage;
+    private boolean shouldGenerateAbiJar;
+    private @Nullable SourceOnlyAbiRuleInfo sourceOnlyAbiRuleInfo;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CompilerParameters} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CompilerParameters instance) {
+      return from((AbstractCompilerParameters) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCompilerParameters} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractCompilerParameters instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSourceFilePaths(instance.getSourceFilePaths());
+      setClasspathEntries(instance.getClasspathEntries());
+      setOutputDirectory(instance.getOutputDirectory());
+      setGeneratedCodeDirectory(instance.getGeneratedCodeDirectory());
+      setWorkingDirectory(instance.getWorkingDirectory());
+      setDepFilePath(instance.getDepFilePath());
+      setPathToSourcesList(instance.getPathToSourcesList());
+      @Nullable Path abiJarPathValue = instance.getAbiJarPath();
+      if (abiJarPathValue != null) {
+        setAbiJarPath(abiJarPathValue);
+      }
+      setAbiGenerationMode(instance.getAbiGenerationMode());
+      setShouldTrackClassUsage(instance.shouldTrackClassUsage());
+      setShouldGenerateAbiJar(instance.shouldGenerateAbiJar());
+      @Nullable SourceOnlyAbiRuleInfo sourceOnlyAbiRuleInfoValue = instance.getSourceOnlyAbiRuleInfo();
+      if (sourceOnlyAbiRuleInfoValue != null) {
+        setSourceOnlyAbiRuleInfo(sourceOnlyAbiRuleInfoValue);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#getSourceFilePaths() sourceFilePaths} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractCompilerParameters#getSourceFilePaths() sourceFilePaths}.</em>
+     * @param sourceFilePaths The value for sourceFilePaths 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourceFilePaths(ImmutableSortedSet<Path> sourceFilePaths) {
+      this.sourceFilePaths = Objects.requireNonNull(sourceFilePaths, "sourceFilePaths");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#getClasspathEntries() classpathEntries} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractCompilerParameters#getClasspathEntries() classpathEntries}.</em>
+     * @param classpathEntries The value for classpathEntries 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setClasspathEntries(ImmutableSortedSet<Path> classpathEntries) {
+      this.classpathEntries = Objects.requireNonNull(classpathEntries, "classpathEntries");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#getOutputDirectory() outputDirectory} attribute.
+     * @param outputDirectory The value for outputDirectory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOutputDirectory(Path outputDirectory) {
+      this.outputDirectory = Objects.requireNonNull(outputDirectory, "outputDirectory");
+      initBits &= ~INIT_BIT_OUTPUT_DIRECTORY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#getGeneratedCodeDirectory() generatedCodeDirectory} attribute.
+     * @param generatedCodeDirectory The value for generatedCodeDirectory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGeneratedCodeDirectory(Path generatedCodeDirectory) {
+      this.generatedCodeDirectory = Objects.requireNonNull(generatedCodeDirectory, "generatedCodeDirectory");
+      initBits &= ~INIT_BIT_GENERATED_CODE_DIRECTORY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#getWorkingDirectory() workingDirectory} attribute.
+     * @param workingDirectory The value for workingDirectory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWorkingDirectory(Path workingDirectory) {
+      this.workingDirectory = Objects.requireNonNull(workingDirectory, "workingDirectory");
+      initBits &= ~INIT_BIT_WORKING_DIRECTORY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#getDepFilePath() depFilePath} attribute.
+     * @param depFilePath The value for depFilePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDepFilePath(Path depFilePath) {
+      this.depFilePath = Objects.requireNonNull(depFilePath, "depFilePath");
+      initBits &= ~INIT_BIT_DEP_FILE_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#getPathToSourcesList() pathToSourcesList} attribute.
+     * @param pathToSourcesList The value for pathToSourcesList 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPathToSourcesList(Path pathToSourcesList) {
+      this.pathToSourcesList = Objects.requireNonNull(pathToSourcesList, "pathToSourcesList");
+      initBits &= ~INIT_BIT_PATH_TO_SOURCES_LIST;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#getAbiJarPath() abiJarPath} attribute.
+     * @param abiJarPath The value for abiJarPath (can be {@code null})
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAbiJarPath(@Nullable Path abiJarPath) {
+      this.abiJarPath = abiJarPath;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#getAbiGenerationMode() abiGenerationMode} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractCompilerParameters#getAbiGenerationMode() abiGenerationMode}.</em>
+     * @param abiGenerationMode The value for abiGenerationMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAbiGenerationMode(AbiGenerationMode abiGenerationMode) {
+      this.abiGenerationMode = Objects.requireNonNull(abiGenerationMode, "abiGenerationMode");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#shouldTrackClassUsage() shouldTrackClassUsage} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractCompilerParameters#shouldTrackClassUsage() shouldTrackClassUsage}.</em>
+     * @param shouldTrackClassUsage The value for shouldTrackClassUsage 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setShouldTrackClassUsage(boolean shouldTrackClassUsage) {
+      this.shouldTrackClassUsage = shouldTrackClassUsage;
+      optBits |= OPT_BIT_SHOULD_TRACK_CLASS_USAGE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#shouldGenerateAbiJar() shouldGenerateAbiJar} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractCompilerParameters#shouldGenerateAbiJar() shouldGenerateAbiJar}.</em>
+     * @param shouldGenerateAbiJar The value for shouldGenerateAbiJar 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setShouldGenerateAbiJar(boolean shouldGenerateAbiJar) {
+      this.shouldGenerateAbiJar = shouldGenerateAbiJar;
+      optBits |= OPT_BIT_SHOULD_GENERATE_ABI_JAR;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#getSourceOnlyAbiRuleInfo() sourceOnlyAbiRuleInfo} attribute.
+     * @param sourceOnlyAbiRuleInfo The value for sourceOnlyAbiRuleInfo (can be {@code null})
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourceOnlyAbiRuleInfo(@Nullable SourceOnlyAbiRuleInfo sourceOnlyAbiRuleInfo) {
+      this.sourceOnlyAbiRuleInfo = sourceOnlyAbiRuleInfo;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link CompilerParameters CompilerParameters}.
+     * @return An immutable instance of CompilerParameters
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CompilerParameters build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CompilerParameters(this);
+    }
+
+    private boolean shouldTrackClassUsageIsSet() {
+      return (optBits & OPT_BIT_SHOULD_TRACK_CLASS_USAGE) != 0;
+    }
+
+    private boolean shouldGenerateAbiJarIsSet() {
+      return (optBits & OPT_BIT_SHOULD_GENERATE_ABI_JAR) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_OUTPUT_DIRECTORY) != 0) attributes.add("outputDirectory");
+      if ((initBits & INIT_BIT_GENERATED_CODE_DIRECTORY) != 0) attributes.add("generatedCodeDirectory");
+      if ((initBits & INIT_BIT_WORKING_DIRECTORY) != 0) attributes.add("workingDirectory");
+      if ((initBits & INIT_BIT_DEP_FILE_PATH) != 0) attributes.add("depFilePath");
+      if ((initBits & INIT_BIT_PATH_TO_SOURCES_LIST) != 0) attributes.add("pathToSourcesList");
+      return "Cannot build CompilerParameters, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,743 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.BuildRuleParams;
+import com.facebook.buck.rules.BuildRuleResolver;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.SourcePathRuleFinder;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractDefaultJavaLibraryClasspaths}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DefaultJavaLibraryClasspaths.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDefaultJavaLibraryClasspaths"})
+@Immutable
+public final class DefaultJavaLibraryClasspaths
+    extends AbstractDefaultJavaLibraryClasspaths {
+  private final BuildRuleResolver buildRuleResolver;
+  private final BuildRuleParams buildRuleParams;
+  private final JavaLibraryDeps deps;
+  private final ConfiguredCompiler configuredCompiler;
+  private final boolean shouldCompileAgainstAbis;
+  private final boolean shouldCreateSourceOnlyAbi;
+
+  private DefaultJavaLibraryClasspaths(DefaultJavaLibraryClasspaths.Builder builder) {
+    this.buildRuleResolver = builder.buildRuleResolver;
+    this.buildRuleParams = builder.buildRuleParams;
+    this.deps = builder.deps;
+    this.configuredCompiler = builder.configuredCompiler;
+    if (builder.shouldCompileAgainstAbisIsSet()) {
+      initShim.setShouldCompileAgainstAbis(builder.shouldCompileAgainstAbis);
+    }
+    if (builder.shouldCreateSourceOnlyAbiIsSet()) {
+      initShim.setShouldCreateSourceOnlyAbi(builder.shouldCreateSourceOnlyAbi);
+    }
+    this.shouldCompileAgainstAbis = initShim.shouldCompileAgainstAbis();
+    this.shouldCreateSourceOnlyAbi = initShim.shouldCreateSourceOnlyAbi();
+    this.initShim = null;
+  }
+
+  private DefaultJavaLibraryClasspaths(
+      BuildRuleResolver buildRuleResolver,
+      BuildRuleParams buildRuleParams,
+      JavaLibraryDeps deps,
+      ConfiguredCompiler configuredCompiler,
+      boolean shouldCompileAgainstAbis,
+      boolean shouldCreateSourceOnlyAbi) {
+    this.buildRuleResolver = buildRuleResolver;
+    this.buildRuleParams = buildRuleParams;
+    this.deps = deps;
+    this.configuredCompiler = configuredCompiler;
+    this.shouldCompileAgainstAbis = shouldCompileAgainstAbis;
+    this.shouldCreateSourceOnlyAbi = shouldCreateSourceOnlyAbi;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean shouldCompileAgainstAbis;
+    private int shouldCompileAgainstAbisBuildStage;
+
+    boolean shouldCompileAgainstAbis() {
+      if (shouldCompileAgainstAbisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shouldCompileAgainstAbisBuildStage == STAGE_UNINITIALIZED) {
+        shouldCompileAgainstAbisBuildStage = STAGE_INITIALIZING;
+        this.shouldCompileAgainstAbis = DefaultJavaLibraryClasspaths.super.shouldCompileAgainstAbis();
+        shouldCompileAgainstAbisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shouldCompileAgainstAbis;
+    }
+
+    void setShouldCompileAgainstAbis(boolean shouldCompileAgainstAbis) {
+      this.shouldCompileAgainstAbis = shouldCompileAgainstAbis;
+      shouldCompileAgainstAbisBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean shouldCreateSourceOnlyAbi;
+    private int shouldCreateSourceOnlyAbiBuildStage;
+
+    boolean shouldCreateSourceOnlyAbi() {
+      if (shouldCreateSourceOnlyAbiBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shouldCreateSourceOnlyAbiBuildStage == STAGE_UNINITIALIZED) {
+        shouldCreateSourceOnlyAbiBuildStage = STAGE_INITIALIZING;
+        this.shouldCreateSourceOnlyAbi = DefaultJavaLibraryClasspaths.super.shouldCreateSourceOnlyAbi();
+        shouldCreateSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shouldCreateSourceOnlyAbi;
+    }
+
+    void setShouldCreateSourceOnlyAbi(boolean shouldCreateSourceOnlyAbi) {
+      this.shouldCreateSourceOnlyAbi = shouldCreateSourceOnlyAbi;
+      shouldCreateSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (shouldCompileAgainstAbisBuildStage == STAGE_INITIALIZING) attributes.add("shouldCompileAgainstAbis");
+      if (shouldCreateSourceOnlyAbiBuildStage == STAGE_INITIALIZING) attributes.add("shouldCreateSourceOnlyAbi");
+      return "Cannot build DefaultJavaLibraryClasspaths, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code buildRuleResolver} attribute
+   */
+  @Override
+  public BuildRuleResolver getBuildRuleResolver() {
+    return buildRuleResolver;
+  }
+
+  /**
+   * @return The value of the {@code buildRuleParams} attribute
+   */
+  @Override
+  public BuildRuleParams getBuildRuleParams() {
+    return buildRuleParams;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public JavaLibraryDeps getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code configuredCompiler} attribute
+   */
+  @Override
+  public ConfiguredCompiler getConfiguredCompiler() {
+    return configuredCompiler;
+  }
+
+  /**
+   * @return The value of the {@code shouldCompileAgainstAbis} attribute
+   */
+  @Override
+  public boolean shouldCompileAgainstAbis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.shouldCompileAgainstAbis()
+        : this.shouldCompileAgainstAbis;
+  }
+
+  /**
+   * @return The value of the {@code shouldCreateSourceOnlyAbi} attribute
+   */
+  @Override
+  public boolean shouldCreateSourceOnlyAbi() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.shouldCreateSourceOnlyAbi()
+        : this.shouldCreateSourceOnlyAbi;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDefaultJavaLibraryClasspaths#getBuildRuleResolver() buildRuleResolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildRuleResolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final DefaultJavaLibraryClasspaths withBuildRuleResolver(BuildRuleResolver value) {
+    if (this.buildRuleResolver == value) return this;
+    BuildRuleResolver newValue = Objects.requireNonNull(value, "buildRuleResolver");
+    return new DefaultJavaLibraryClasspaths(
+        newValue,
+        this.buildRuleParams,
+        this.deps,
+        this.configuredCompiler,
+        this.shouldCompileAgainstAbis,
+        this.shouldCreateSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDefaultJavaLibraryClasspaths#getBuildRuleParams() buildRuleParams} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildRuleParams
+   * @return A modified copy of the {@code this} object
+   */
+  public final DefaultJavaLibraryClasspaths withBuildRuleParams(BuildRuleParams value) {
+    if (this.buildRuleParams == value) return this;
+    BuildRuleParams newValue = Objects.requireNonNull(value, "buildRuleParams");
+    return new DefaultJavaLibraryClasspaths(
+        this.buildRuleResolver,
+        newValue,
+        this.deps,
+        this.configuredCompiler,
+        this.shouldCompileAgainstAbis,
+        this.shouldCreateSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDefaultJavaLibraryClasspaths#getDeps() deps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for deps
+   * @return A modified copy of the {@code this} object
+   */
+  public final DefaultJavaLibraryClasspaths withDeps(JavaLibraryDeps value) {
+    if (this.deps == value) return this;
+    JavaLibraryDeps newValue = Objects.requireNonNull(value, "deps");
+    return new DefaultJavaLibraryClasspaths(
+        this.buildRuleResolver,
+        this.buildRuleParams,
+        newValue,
+        this.configuredCompiler,
+        this.shouldCompileAgainstAbis,
+        this.shouldCreateSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDefaultJavaLibraryClasspaths#getConfiguredCompiler() configuredCompiler} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for configuredCompiler
+   * @return A modified copy of the {@code this} object
+   */
+  public final DefaultJavaLibraryClasspaths withConfiguredCompiler(ConfiguredCompiler value) {
+    if (this.configuredCompiler == value) return this;
+    ConfiguredCompiler newValue = Objects.requireNonNull(value, "configuredCompiler");
+    return new DefaultJavaLibraryClasspaths(
+        this.buildRuleResolver,
+        this.buildRuleParams,
+        this.deps,
+        newValue,
+        this.shouldCompileAgainstAbis,
+        this.shouldCreateSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDefaultJavaLibraryClasspaths#shouldCompileAgainstAbis() shouldCompileAgainstAbis} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for shouldCompileAgainstAbis
+   * @return A modified copy of the {@code this} object
+   */
+  public final DefaultJavaLibraryClasspaths withShouldCompileAgainstAbis(boolean value) {
+    if (this.shouldCompileAgainstAbis == value) return this;
+    return new DefaultJavaLibraryClasspaths(
+        this.buildRuleResolver,
+        this.buildRuleParams,
+        this.deps,
+        this.configuredCompiler,
+        value,
+        this.shouldCreateSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDefaultJavaLibraryClasspaths#shouldCreateSourceOnlyAbi() shouldCreateSourceOnlyAbi} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for shouldCreateSourceOnlyAbi
+   * @return A modified copy of the {@code this} object
+   */
+  public final DefaultJavaLibraryClasspaths withShouldCreateSourceOnlyAbi(boolean value) {
+    if (this.shouldCreateSourceOnlyAbi == value) return this;
+    return new DefaultJavaLibraryClasspaths(
+        this.buildRuleResolver,
+        this.buildRuleParams,
+        this.deps,
+        this.configuredCompiler,
+        this.shouldCompileAgainstAbis,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DefaultJavaLibraryClasspaths} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DefaultJavaLibraryClasspaths
+        && equalTo((DefaultJavaLibraryClasspaths) another);
+  }
+
+  private boolean equalTo(DefaultJavaLibraryClasspaths another) {
+    return buildRuleResolver.equals(another.buildRuleResolver)
+        && buildRuleParams.equals(another.buildRuleParams)
+        && deps.equals(another.deps)
+        && configuredCompiler.equals(another.configuredCompiler)
+        && shouldCompileAgainstAbis == another.shouldCompileAgainstAbis
+        && shouldCreateSourceOnlyAbi == another.shouldCreateSourceOnlyAbi;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildRuleResolver}, {@code buildRuleParams}, {@code deps}, {@code configuredCompiler}, {@code shouldCompileAgainstAbis}, {@code shouldCreateSourceOnlyAbi}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + buildRuleResolver.hashCode();
+    h += (h << 5) + buildRuleParams.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + configuredCompiler.hashCode();
+    h += (h << 5) + Booleans.hashCode(shouldCompileAgainstAbis);
+    h += (h << 5) + Booleans.hashCode(shouldCreateSourceOnlyAbi);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefaultJavaLibraryClasspaths} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefaultJavaLibraryClasspaths")
+        .omitNullValues()
+        .add("buildRuleResolver", buildRuleResolver)
+        .add("buildRuleParams", buildRuleParams)
+        .add("deps", deps)
+        .add("configuredCompiler", configuredCompiler)
+        .add("shouldCompileAgainstAbis", shouldCompileAgainstAbis)
+        .add("shouldCreateSourceOnlyAbi", shouldCreateSourceOnlyAbi)
+        .toString();
+  }
+
+  private volatile long lazyInitBitmap;
+
+  private static final long SOURCE_PATH_RULE_FINDER_LAZY_INIT_BIT = 0x1L;
+
+  private SourcePathRuleFinder sourcePathRuleFinder;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractDefaultJavaLibraryClasspaths#getSourcePathRuleFinder() sourcePathRuleFinder} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public SourcePathRuleFinder getSourcePathRuleFinder() {
+    if ((lazyInitBitmap & SOURCE_PATH_RULE_FINDER_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SOURCE_PATH_RULE_FINDER_LAZY_INIT_BIT) == 0) {
+          this.sourcePathRuleFinder = Objects.requireNonNull(super.getSourcePathRuleFinder(), "sourcePathRuleFinder");
+          lazyInitBitmap |= SOURCE_PATH_RULE_FINDER_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return sourcePathRuleFinder;
+  }
+
+  private static final long FIRST_ORDER_PACKAGEABLE_DEPS_LAZY_INIT_BIT = 0x2L;
+
+  private ImmutableSortedSet<BuildRule> firstOrderPackageableDeps;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractDefaultJavaLibraryClasspaths#getFirstOrderPackageableDeps() firstOrderPackageableDeps} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getFirstOrderPackageableDeps() {
+    if ((lazyInitBitmap & FIRST_ORDER_PACKAGEABLE_DEPS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & FIRST_ORDER_PACKAGEABLE_DEPS_LAZY_INIT_BIT) == 0) {
+          this.firstOrderPackageableDeps = Objects.requireNonNull(super.getFirstOrderPackageableDeps(), "firstOrderPackageableDeps");
+          lazyInitBitmap |= FIRST_ORDER_PACKAGEABLE_DEPS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return firstOrderPackageableDeps;
+  }
+
+  private static final long ALL_FIRST_ORDER_NON_PROVIDED_DEPS_LAZY_INIT_BIT = 0x4L;
+
+  private ImmutableSortedSet<BuildRule> allFirstOrderNonProvidedDeps;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractDefaultJavaLibraryClasspaths#getAllFirstOrderNonProvidedDeps() allFirstOrderNonProvidedDeps} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getAllFirstOrderNonProvidedDeps() {
+    if ((lazyInitBitmap & ALL_FIRST_ORDER_NON_PROVIDED_DEPS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ALL_FIRST_ORDER_NON_PROVIDED_DEPS_LAZY_INIT_BIT) == 0) {
+          this.allFirstOrderNonProvidedDeps = Objects.requireNonNull(super.getAllFirstOrderNonProvidedDeps(), "allFirstOrderNonProvidedDeps");
+          lazyInitBitmap |= ALL_FIRST_ORDER_NON_PROVIDED_DEPS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return allFirstOrderNonProvidedDeps;
+  }
+
+  private static final long NON_CLASSPATH_DEPS_LAZY_INIT_BIT = 0x8L;
+
+  private ImmutableSortedSet<BuildRule> nonClasspathDeps;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractDefaultJavaLibraryClasspaths#getNonClasspathDeps() nonClasspathDeps} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getNonClasspathDeps() {
+    if ((lazyInitBitmap & NON_CLASSPATH_DEPS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NON_CLASSPATH_DEPS_LAZY_INIT_BIT) == 0) {
+          this.nonClasspathDeps = Objects.requireNonNull(super.getNonClasspathDeps(), "nonClasspathDeps");
+          lazyInitBitmap |= NON_CLASSPATH_DEPS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return nonClasspathDeps;
+  }
+
+  private static final long COMPILE_TIME_CLASSPATH_SOURCE_PATHS_LAZY_INIT_BIT = 0x10L;
+
+  private ImmutableSortedSet<SourcePath> compileTimeClasspathSourcePaths;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractDefaultJavaLibraryClasspaths#getCompileTimeClasspathSourcePaths() compileTimeClasspathSourcePaths} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getCompileTimeClasspathSourcePaths() {
+    if ((lazyInitBitmap & COMPILE_TIME_CLASSPATH_SOURCE_PATHS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & COMPILE_TIME_CLASSPATH_SOURCE_PATHS_LAZY_INIT_BIT) == 0) {
+          this.compileTimeClasspathSourcePaths = Objects.requireNonNull(super.getCompileTimeClasspathSourcePaths(), "compileTimeClasspathSourcePaths");
+          lazyInitBitmap |= COMPILE_TIME_CLASSPATH_SOURCE_PATHS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return compileTimeClasspathSourcePaths;
+  }
+
+  private static final long COMPILE_TIME_CLASSPATH_FULL_DEPS_LAZY_INIT_BIT = 0x20L;
+
+  private ImmutableSortedSet<BuildRule> compileTimeClasspathFullDeps;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractDefaultJavaLibraryClasspaths#getCompileTimeClasspathFullDeps() compileTimeClasspathFullDeps} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getCompileTimeClasspathFullDeps() {
+    if ((lazyInitBitmap & COMPILE_TIME_CLASSPATH_FULL_DEPS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & COMPILE_TIME_CLASSPATH_FULL_DEPS_LAZY_INIT_BIT) == 0) {
+          this.compileTimeClasspathFullDeps = Objects.requireNonNull(super.getCompileTimeClasspathFullDeps(), "compileTimeClasspathFullDeps");
+          lazyInitBitmap |= COMPILE_TIME_CLASSPATH_FULL_DEPS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return compileTimeClasspathFullDeps;
+  }
+
+  private static final long COMPILE_TIME_CLASSPATH_ABI_DEPS_LAZY_INIT_BIT = 0x40L;
+
+  private ImmutableSortedSet<BuildRule> compileTimeClasspathAbiDeps;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractDefaultJavaLibraryClasspaths#getCompileTimeClasspathAbiDeps() compileTimeClasspathAbiDeps} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getCompileTimeClasspathAbiDeps() {
+    if ((lazyInitBitmap & COMPILE_TIME_CLASSPATH_ABI_DEPS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & COMPILE_TIME_CLASSPATH_ABI_DEPS_LAZY_INIT_BIT) == 0) {
+          this.compileTimeClasspathAbiDeps = Objects.requireNonNull(super.getCompileTimeClasspathAbiDeps(), "compileTimeClasspathAbiDeps");
+          lazyInitBitmap |= COMPILE_TIME_CLASSPATH_ABI_DEPS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return compileTimeClasspathAbiDeps;
+  }
+
+  private static final long ABI_CLASSPATH_LAZY_INIT_BIT = 0x80L;
+
+  private ZipArchiveDependencySupplier abiClasspath;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractDefaultJavaLibraryClasspaths#getAbiClasspath() abiClasspath} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ZipArchiveDependencySupplier getAbiClasspath() {
+    if ((lazyInitBitmap & ABI_CLASSPATH_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ABI_CLASSPATH_LAZY_INIT_BIT) == 0) {
+          this.abiClasspath = Objects.requireNonNull(super.getAbiClasspath(), "abiClasspath");
+          lazyInitBitmap |= ABI_CLASSPATH_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return abiClasspath;
+  }
+
+  private static final long COMPILE_TIME_CLASSPATH_UNFILTERED_FULL_DEPS_LAZY_INIT_BIT = 0x100L;
+
+  private ImmutableSortedSet<BuildRule> compileTimeClasspathUnfilteredFullDeps;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractDefaultJavaLibraryClasspaths#getCompileTimeClasspathUnfilteredFullDeps() compileTimeClasspathUnfilteredFullDeps} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getCompileTimeClasspathUnfilteredFullDeps() {
+    if ((lazyInitBitmap & COMPILE_TIME_CLASSPATH_UNFILTERED_FULL_DEPS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & COMPILE_TIME_CLASSPATH_UNFILTERED_FULL_DEPS_LAZY_INIT_BIT) == 0) {
+          this.compileTimeClasspathUnfilteredFullDeps = Objects.requireNonNull(super.getCompileTimeClasspathUnfilteredFullDeps(), "compileTimeClasspathUnfilteredFullDeps");
+          lazyInitBitmap |= COMPILE_TIME_CLASSPATH_UNFILTERED_FULL_DEPS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return compileTimeClasspathUnfilteredFullDeps;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractDefaultJavaLibraryClasspaths} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DefaultJavaLibraryClasspaths instance
+   */
+  static DefaultJavaLibraryClasspaths copyOf(AbstractDefaultJavaLibraryClasspaths instance) {
+    if (instance instanceof DefaultJavaLibraryClasspaths) {
+      return (DefaultJavaLibraryClasspaths) instance;
+    }
+    return DefaultJavaLibraryClasspaths.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DefaultJavaLibraryClasspaths DefaultJavaLibraryClasspaths}.
+   * @param buildRuleResolver {@code buildRuleResolver} parameter
+   * @return A new DefaultJavaLibraryClasspaths builder
+   */
+  public static DefaultJavaLibraryClasspaths.Builder builder(BuildRuleResolver buildRuleResolver) {
+    return new DefaultJavaLibraryClasspaths.Builder(buildRuleResolver);
+  }
+
+  static DefaultJavaLibraryClasspaths.Builder builder() {
+    return new DefaultJavaLibraryClasspaths.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DefaultJavaLibraryClasspaths DefaultJavaLibraryClasspaths}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BUILD_RULE_RESOLVER = 0x1L;
+    private static final long INIT_BIT_BUILD_RULE_PARAMS = 0x2L;
+    private static final long INIT_BIT_DEPS = 0x4L;
+    private static final long INIT_BIT_CONFIGURED_COMPILER = 0x8L;
+    private static final long OPT_BIT_SHOULD_COMPILE_AGAINST_ABIS = 0x1L;
+    private static final long OPT_BIT_SHOULD_CREATE_SOURCE_ONLY_ABI = 0x2L;
+    private long initBits = 0xfL;
+    private long optBits;
+
+    private @Nullable BuildRuleResolver buildRuleResolver;
+    private @Nullable BuildRuleParams buildRuleParams;
+    private @Nullable JavaLibraryDeps deps;
+    private @Nullable ConfiguredCompiler configuredCompiler;
+    private boolean shouldCompileAgainstAbis;
+    private boolean shouldCreateSourceOnlyAbi;
+
+    private Builder(BuildRuleResolver buildRuleResolver) {
+      setBuildRuleResolver(buildRuleResolver);
+    }
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DefaultJavaLibraryClasspaths} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DefaultJavaLibraryClasspaths instance) {
+      return from((AbstractDefaultJavaLibraryClasspaths) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDefaultJavaLibraryClasspaths} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractDefaultJavaLibraryClasspaths instance) {
+      Objects.requireNonNull(instance, "instance");
+      setBuildRuleResolver(instance.getBuildRuleResolver());
+      setBuildRuleParams(instance.getBuildRuleParams());
+      setDeps(instance.getDeps());
+      setConfiguredCompiler(instance.getConfiguredCompiler());
+      setShouldCompileAgainstAbis(instance.shouldCompileAgainstAbis());
+      setShouldCreateSourceOnlyAbi(instance.shouldCreateSourceOnlyAbi());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDefaultJavaLibraryClasspaths#getBuildRuleResolver() buildRuleResolver} attribute.
+     * @param buildRuleResolver The value for buildRuleResolver 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder setBuildRuleResolver(BuildRuleResolver buildRuleResolver) {
+      this.buildRuleResolver = Objects.requireNonNull(buildRuleResolver, "buildRuleResolver");
+      initBits &= ~INIT_BIT_BUILD_RULE_RESOLVER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDefaultJavaLibraryClasspaths#getBuildRuleParams() buildRuleParams} attribute.
+     * @param buildRuleParams The value for buildRuleParams 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildRuleParams(BuildRuleParams buildRuleParams) {
+      this.buildRuleParams = Objects.requireNonNull(buildRuleParams, "buildRuleParams");
+      initBits &= ~INIT_BIT_BUILD_RULE_PARAMS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDefaultJavaLibraryClasspaths#getDeps() deps} attribute.
+     * @param deps The value for deps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(JavaLibraryDeps deps) {
+      this.deps = Objects.requireNonNull(deps, "deps");
+      initBits &= ~INIT_BIT_DEPS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDefaultJavaLibraryClasspaths#getConfiguredCompiler() configuredCompiler} attribute.
+     * @param configuredCompiler The value for configuredCompiler 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setConfiguredCompiler(ConfiguredCompiler configuredCompiler) {
+      this.configuredCompiler = Objects.requireNonNull(configuredCompiler, "configuredCompiler");
+      initBits &= ~INIT_BIT_CONFIGURED_COMPILER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDefaultJavaLibraryClasspaths#shouldCompileAgainstAbis() shouldCompileAgainstAbis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractDefaultJavaLibraryClasspaths#shouldCompileAgainstAbis() shouldCompileAgainstAbis}.</em>
+     * @param shouldCompileAgainstAbis The value for shouldCompileAgainstAbis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setShouldCompileAgainstAbis(boolean shouldCompileAgainstAbis) {
+      this.shouldCompileAgainstAbis = shouldCompileAgainstAbis;
+      optBits |= OPT_BIT_SHOULD_COMPILE_AGAINST_ABIS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDefaultJavaLibraryClasspaths#shouldCreateSourceOnlyAbi() shouldCreateSourceOnlyAbi} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractDefaultJavaLibraryClasspaths#shouldCreateSourceOnlyAbi() shouldCreateSourceOnlyAbi}.</em>
+     * @param shouldCreateSourceOnlyAbi The value for shouldCreateSourceOnlyAbi 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setShouldCreateSourceOnlyAbi(boolean shouldCreateSourceOnlyAbi) {
+      this.shouldCreateSourceOnlyAbi = shouldCreateSourceOnlyAbi;
+      optBits |= OPT_BIT_SHOULD_CREATE_SOURCE_ONLY_ABI;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DefaultJavaLibraryClasspaths DefaultJavaLibraryClasspaths}.
+     * @return An immutable instance of DefaultJavaLibraryClasspaths
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DefaultJavaLibraryClasspaths build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DefaultJavaLibraryClasspaths(this);
+    }
+
+    private boolean shouldCompileAgainstAbisIsSet() {
+      return (optBits & OPT_BIT_SHOULD_COMPILE_AGAINST_ABIS) != 0;
+    }
+
+    private boolean shouldCreateSourceOnlyAbiIsSet() {
+      return (optBits & OPT_BIT_SHOULD_CREATE_SOURCE_ONLY_ABI) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_BUILD_RULE_RESOLVER) != 0) attributes.add("buildRuleResolver");
+      if ((initBits & INIT_BIT_BUILD_RULE_PARAMS) != 0) attributes.add("buildRuleParams");
+      if ((initBits & INIT_BIT_DEPS) != 0) attributes.add("deps");
+      if ((initBits & INIT_BIT_CONFIGURED_COMPILER) != 0) attributes.add("configuredCompiler");
+      return "Cannot build DefaultJavaLibraryClasspaths, some of required attributes are not set " + attributes;
+    }
+  }
+}
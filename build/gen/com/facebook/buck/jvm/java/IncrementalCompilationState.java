@@ -0,0 +1,458 @@
+package com.facebook.buck.jvm.java;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * What {@link IncrementalJavacCompilation} records about the last successful compilation of a
+ * library, to find out which sources have to be recompiled the next time it is built.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractIncrementalCompilationState"})
+@Immutable
+public final class IncrementalCompilationState
+    extends AbstractIncrementalCompilationState {
+  private final ImmutableList<String> options;
+  private final ImmutableSortedMap<String, CompiledSourceFile> sources;
+  private final ImmutableSortedMap<String, ClassFileSummary> classes;
+  private final ImmutableList<UsedClasspathClass> usedClasspathClasses;
+
+  private IncrementalCompilationState(
+      ImmutableList<String> options,
+      ImmutableSortedMap<String, CompiledSourceFile> sources,
+      ImmutableSortedMap<String, ClassFileSummary> classes,
+      ImmutableList<UsedClasspathClass> usedClasspathClasses) {
+    this.options = options;
+    this.sources = sources;
+    this.classes = classes;
+    this.usedClasspathClasses = usedClasspathClasses;
+  }
+
+  /**
+   *@return the javac options of the compilation, which include the classpath. 
+   */
+  @JsonProperty
+  @Override
+  public ImmutableList<String> getOptions() {
+    return options;
+  }
+
+  /**
+   *@return the compiled sources, by their path relative to the project root. 
+   */
+  @JsonProperty
+  @Override
+  public ImmutableSortedMap<String, CompiledSourceFile> getSources() {
+    return sources;
+  }
+
+  /**
+   *@return the compiled classes, by their internal name. 
+   */
+  @JsonProperty
+  @Override
+  public ImmutableSortedMap<String, ClassFileSummary> getClasses() {
+    return classes;
+  }
+
+  /**
+   *@return the classes javac read from the jars on the classpath. 
+   */
+  @JsonProperty
+  @Override
+  public ImmutableList<UsedClasspathClass> getUsedClasspathClasses() {
+    return usedClasspathClasses;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIncrementalCompilationState#getOptions() options}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IncrementalCompilationState withOptions(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new IncrementalCompilationState(newValue, this.sources, this.classes, this.usedClasspathClasses);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIncrementalCompilationState#getOptions() options}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of options elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IncrementalCompilationState withOptions(Iterable<String> elements) {
+    if (this.options == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new IncrementalCompilationState(newValue, this.sources, this.classes, this.usedClasspathClasses);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIncrementalCompilationState#getSources() sources} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sources
+   * @return A modified copy of the {@code this} object
+   */
+  public final IncrementalCompilationState withSources(ImmutableSortedMap<String, CompiledSourceFile> value) {
+    if (this.sources == value) return this;
+    ImmutableSortedMap<String, CompiledSourceFile> newValue = Objects.requireNonNull(value, "sources");
+    return new IncrementalCompilationState(this.options, newValue, this.classes, this.usedClasspathClasses);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIncrementalCompilationState#getClasses() classes} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for classes
+   * @return A modified copy of the {@code this} object
+   */
+  public final IncrementalCompilationState withClasses(ImmutableSortedMap<String, ClassFileSummary> value) {
+    if (this.classes == value) return this;
+    ImmutableSortedMap<String, ClassFileSummary> newValue = Objects.requireNonNull(value, "classes");
+    return new IncrementalCompilationState(this.options, this.sources, newValue, this.usedClasspathClasses);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIncrementalCompilationState#getUsedClasspathClasses() usedClasspathClasses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IncrementalCompilationState withUsedClasspathClasses(UsedClasspathClass... elements) {
+    ImmutableList<UsedClasspathClass> newValue = ImmutableList.copyOf(elements);
+    return new IncrementalCompilationState(this.options, this.sources, this.classes, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIncrementalCompilationState#getUsedClasspathClasses() usedClasspathClasses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of usedClasspathClasses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IncrementalCompilationState withUsedClasspathClasses(Iterable<? extends UsedClasspathClass> elements) {
+    if (this.usedClasspathClasses == elements) return this;
+    ImmutableList<UsedClasspathClass> newValue = ImmutableList.copyOf(elements);
+    return new IncrementalCompilationState(this.options, this.sources, this.classes, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code IncrementalCompilationState} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof IncrementalCompilationState
+        && equalTo((IncrementalCompilationState) another);
+  }
+
+  private boolean equalTo(IncrementalCompilationState another) {
+    return options.equals(another.options)
+        && sources.equals(another.sources)
+        && classes.equals(another.classes)
+        && usedClasspathClasses.equals(another.usedClasspathClasses);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code options}, {@code sources}, {@code classes}, {@code usedClasspathClasses}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + options.hashCode();
+    h += (h << 5) + sources.hashCode();
+    h += (h << 5) + classes.hashCode();
+    h += (h << 5) + usedClasspathClasses.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code IncrementalCompilationState} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IncrementalCompilationState")
+        .omitNullValues()
+        .add("options", options)
+        .add("sources", sources)
+        .add("classes", classes)
+        .add("usedClasspathClasses", usedClasspathClasses)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractIncrementalCompilationState {
+    @Nullable ImmutableList<String> options = ImmutableList.of();
+    @Nullable ImmutableSortedMap<String, CompiledSourceFile> sources;
+    @Nullable ImmutableSortedMap<String, ClassFileSummary> classes;
+    @Nullable ImmutableList<UsedClasspathClass> usedClasspathClasses = ImmutableList.of();
+    @JsonProperty
+    public void setOptions(ImmutableList<String> options) {
+      this.options = options;
+    }
+    @JsonProperty
+    public void setSources(ImmutableSortedMap<String, CompiledSourceFile> sources) {
+      this.sources = sources;
+    }
+    @JsonProperty
+    public void setClasses(ImmutableSortedMap<String, ClassFileSummary> classes) {
+      this.classes = classes;
+    }
+    @JsonProperty
+    public void setUsedClasspathClasses(ImmutableList<UsedClasspathClass> usedClasspathClasses) {
+      this.usedClasspathClasses = usedClasspathClasses;
+    }
+    @Override
+    public ImmutableList<String> getOptions() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableSortedMap<String, CompiledSourceFile> getSources() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableSortedMap<String, ClassFileSummary> getClasses() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableList<UsedClasspathClass> getUsedClasspathClasses() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static IncrementalCompilationState fromJson(Json json) {
+    IncrementalCompilationState.Builder builder = IncrementalCompilationState.builder();
+    if (json.options != null) {
+      builder.addAllOptions(json.options);
+    }
+    if (json.sources != null) {
+      builder.setSources(json.sources);
+    }
+    if (json.classes != null) {
+      builder.setClasses(json.classes);
+    }
+    if (json.usedClasspathClasses != null) {
+      builder.addAllUsedClasspathClasses(json.usedClasspathClasses);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractIncrementalCompilationState} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable IncrementalCompilationState instance
+   */
+  static IncrementalCompilationState copyOf(AbstractIncrementalCompilationState instance) {
+    if (instance instanceof IncrementalCompilationState) {
+      return (IncrementalCompilationState) instance;
+    }
+    return IncrementalCompilationState.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link IncrementalCompilationState IncrementalCompilationState}.
+   * @return A new IncrementalCompilationState builder
+   */
+  public static IncrementalCompilationState.Builder builder() {
+    return new IncrementalCompilationState.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link IncrementalCompilationState IncrementalCompilationState}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SOURCES = 0x1L;
+    private static final long INIT_BIT_CLASSES = 0x2L;
+    private long initBits = 0x3L;
+
+    private ImmutableList.Builder<String> options = ImmutableList.builder();
+    private @Nullable ImmutableSortedMap<String, CompiledSourceFile> sources;
+    private @Nullable ImmutableSortedMap<String, ClassFileSummary> classes;
+    private ImmutableList.Builder<UsedClasspathClass> usedClasspathClasses = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code IncrementalCompilationState} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(IncrementalCompilationState instance) {
+      return from((AbstractIncrementalCompilationState) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractIncrementalCompilationState} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractIncrementalCompilationState instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllOptions(instance.getOptions());
+      setSources(instance.getSources());
+      setClasses(instance.getClasses());
+      addAllUsedClasspathClasses(instance.getUsedClasspathClasses());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractIncrementalCompilationState#getOptions() options} list.
+     * @param element A options element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addOptions(String element) {
+      this.options.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIncrementalCompilationState#getOptions() options} list.
+     * @param elements An array of options elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addOptions(String... elements) {
+      this.options.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIncrementalCompilationState#getOptions() options} list.
+     * @param elements An iterable of options elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setOptions(Iterable<String> elements) {
+      this.options = ImmutableList.builder();
+      return addAllOptions(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIncrementalCompilationState#getOptions() options} list.
+     * @param elements An iterable of options elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllOptions(Iterable<String> elements) {
+      this.options.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIncrementalCompilationState#getSources() sources} attribute.
+     * @param sources The value for sources 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setSources(ImmutableSortedMap<String, CompiledSourceFile> sources) {
+      this.sources = Objects.requireNonNull(sources, "sources");
+      initBits &= ~INIT_BIT_SOURCES;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractIncrementalCompilationState#getClasses() classes} attribute.
+     * @param classes The value for classes 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setClasses(ImmutableSortedMap<String, ClassFileSummary> classes) {
+      this.classes = Objects.requireNonNull(classes, "classes");
+      initBits &= ~INIT_BIT_CLASSES;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractIncrementalCompilationState#getUsedClasspathClasses() usedClasspathClasses} list.
+     * @param element A usedClasspathClasses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addUsedClasspathClasses(UsedClasspathClass element) {
+      this.usedClasspathClasses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIncrementalCompilationState#getUsedClasspathClasses() usedClasspathClasses} list.
+     * @param elements An array of usedClasspathClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addUsedClasspathClasses(UsedClasspathClass... elements) {
+      this.usedClasspathClasses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIncrementalCompilationState#getUsedClasspathClasses() usedClasspathClasses} list.
+     * @param elements An iterable of usedClasspathClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setUsedClasspathClasses(Iterable<? extends UsedClasspathClass> elements) {
+      this.usedClasspathClasses = ImmutableList.builder();
+      return addAllUsedClasspathClasses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIncrementalCompilationState#getUsedClasspathClasses() usedClasspathClasses} list.
+     * @param elements An iterable of usedClasspathClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllUsedClasspathClasses(Iterable<? extends UsedClasspathClass> elements) {
+      this.usedClasspathClasses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link IncrementalCompilationState IncrementalCompilationState}.
+     * @return An immutable instance of IncrementalCompilationState
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public IncrementalCompilationState build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new IncrementalCompilationState(options.build(), sources, classes, usedClasspathClasses.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SOURCES) != 0) attributes.add("sources");
+      if ((initBits & INIT_BIT_CLASSES) != 0) attributes.add("classes");
+      return "Cannot build IncrementalCompilationState, some of required attributes are not set " + attributes;
+    }
+  }
+}
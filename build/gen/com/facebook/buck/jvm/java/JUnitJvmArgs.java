@@ -0,0 +1,1612 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.model.BuildId;
+import com.facebook.buck.test.selectors.TestSelectorList;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Holds and formats the arguments and system properties that should be passed to the JVM to run
+ * JUnit.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractJUnitJvmArgs"})
+@Immutable
+public final class JUnitJvmArgs extends AbstractJUnitJvmArgs {
+  private final @Nullable Path directoryForTestResults;
+  private final Path classpathFile;
+  private final TestType testType;
+  private final boolean debugEnabled;
+  private final boolean codeCoverageEnabled;
+  private final boolean inclNoLocationClassesEnabled;
+  private final boolean shouldExplainTestSelectorList;
+  private final @Nullable String pathToJavaAgent;
+  private final BuildId buildId;
+  private final Path buckModuleBaseSourceCodePath;
+  private final @Nullable Level stdOutLogLevel;
+  private final @Nullable Level stdErrLogLevel;
+  private final @Nullable Path robolectricLogPath;
+  private final Path testRunnerClasspath;
+  private final @Nullable ImmutableList<String> extraJvmArgs;
+  private final ImmutableList<String> testClasses;
+  private final @Nullable TestSelectorList testSelectorList;
+
+  private JUnitJvmArgs(JUnitJvmArgs.Builder builder) {
+    this.directoryForTestResults = builder.directoryForTestResults;
+    this.classpathFile = builder.classpathFile;
+    this.testType = builder.testType;
+    this.pathToJavaAgent = builder.pathToJavaAgent;
+    this.buildId = builder.buildId;
+    this.buckModuleBaseSourceCodePath = builder.buckModuleBaseSourceCodePath;
+    this.stdOutLogLevel = builder.stdOutLogLevel;
+    this.stdErrLogLevel = builder.stdErrLogLevel;
+    this.robolectricLogPath = builder.robolectricLogPath;
+    this.testRunnerClasspath = builder.testRunnerClasspath;
+    this.extraJvmArgs = builder.extraJvmArgs;
+    this.testClasses = builder.testClasses.build();
+    this.testSelectorList = builder.testSelectorList;
+    if (builder.debugEnabledIsSet()) {
+      initShim.setDebugEnabled(builder.debugEnabled);
+    }
+    if (builder.codeCoverageEnabledIsSet()) {
+      initShim.setCodeCoverageEnabled(builder.codeCoverageEnabled);
+    }
+    if (builder.inclNoLocationClassesEnabledIsSet()) {
+      initShim.setInclNoLocationClassesEnabled(builder.inclNoLocationClassesEnabled);
+    }
+    if (builder.shouldExplainTestSelectorListIsSet()) {
+      initShim.setShouldExplainTestSelectorList(builder.shouldExplainTestSelectorList);
+    }
+    this.debugEnabled = initShim.isDebugEnabled();
+    this.codeCoverageEnabled = initShim.isCodeCoverageEnabled();
+    this.inclNoLocationClassesEnabled = initShim.isInclNoLocationClassesEnabled();
+    this.shouldExplainTestSelectorList = initShim.isShouldExplainTestSelectorList();
+    this.initShim = null;
+  }
+
+  private JUnitJvmArgs(
+      @Nullable Path directoryForTestResults,
+      Path classpathFile,
+      TestType testType,
+      boolean debugEnabled,
+      boolean codeCoverageEnabled,
+      boolean inclNoLocationClassesEnabled,
+      boolean shouldExplainTestSelectorList,
+      @Nullable String pathToJavaAgent,
+      BuildId buildId,
+      Path buckModuleBaseSourceCodePath,
+      @Nullable Level stdOutLogLevel,
+      @Nullable Level stdErrLogLevel,
+      @Nullable Path robolectricLogPath,
+      Path testRunnerClasspath,
+      @Nullable ImmutableList<String> extraJvmArgs,
+      ImmutableList<String> testClasses,
+      @Nullable TestSelectorList testSelectorList) {
+    this.directoryForTestResults = directoryForTestResults;
+    this.classpathFile = classpathFile;
+    this.testType = testType;
+    this.debugEnabled = debugEnabled;
+    this.codeCoverageEnabled = codeCoverageEnabled;
+    this.inclNoLocationClassesEnabled = inclNoLocationClassesEnabled;
+    this.shouldExplainTestSelectorList = shouldExplainTestSelectorList;
+    this.pathToJavaAgent = pathToJavaAgent;
+    this.buildId = buildId;
+    this.buckModuleBaseSourceCodePath = buckModuleBaseSourceCodePath;
+    this.stdOutLogLevel = stdOutLogLevel;
+    this.stdErrLogLevel = stdErrLogLevel;
+    this.robolectricLogPath = robolectricLogPath;
+    this.testRunnerClasspath = testRunnerClasspath;
+    this.extraJvmArgs = extraJvmArgs;
+    this.testClasses = testClasses;
+    this.testSelectorList = testSelectorList;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean debugEnabled;
+    private int debugEnabledBuildStage;
+
+    boolean isDebugEnabled() {
+      if (debugEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (debugEnabledBuildStage == STAGE_UNINITIALIZED) {
+        debugEnabledBuildStage = STAGE_INITIALIZING;
+        this.debugEnabled = JUnitJvmArgs.super.isDebugEnabled();
+        debugEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.debugEnabled;
+    }
+
+    void setDebugEnabled(boolean debugEnabled) {
+      this.debugEnabled = debugEnabled;
+      debugEnabledBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean codeCoverageEnabled;
+    private int codeCoverageEnabledBuildStage;
+
+    boolean isCodeCoverageEnabled() {
+      if (codeCoverageEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (codeCoverageEnabledBuildStage == STAGE_UNINITIALIZED) {
+        codeCoverageEnabledBuildStage = STAGE_INITIALIZING;
+        this.codeCoverageEnabled = JUnitJvmArgs.super.isCodeCoverageEnabled();
+        codeCoverageEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.codeCoverageEnabled;
+    }
+
+    void setCodeCoverageEnabled(boolean codeCoverageEnabled) {
+      this.codeCoverageEnabled = codeCoverageEnabled;
+      codeCoverageEnabledBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean inclNoLocationClassesEnabled;
+    private int inclNoLocationClassesEnabledBuildStage;
+
+    boolean isInclNoLocationClassesEnabled() {
+      if (inclNoLocationClassesEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (inclNoLocationClassesEnabledBuildStage == STAGE_UNINITIALIZED) {
+        inclNoLocationClassesEnabledBuildStage = STAGE_INITIALIZING;
+        this.inclNoLocationClassesEnabled = JUnitJvmArgs.super.isInclNoLocationClassesEnabled();
+        inclNoLocationClassesEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.inclNoLocationClassesEnabled;
+    }
+
+    void setInclNoLocationClassesEnabled(boolean inclNoLocationClassesEnabled) {
+      this.inclNoLocationClassesEnabled = inclNoLocationClassesEnabled;
+      inclNoLocationClassesEnabledBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean shouldExplainTestSelectorList;
+    private int shouldExplainTestSelectorListBuildStage;
+
+    boolean isShouldExplainTestSelectorList() {
+      if (shouldExplainTestSelectorListBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shouldExplainTestSelectorListBuildStage == STAGE_UNINITIALIZED) {
+        shouldExplainTestSelectorListBuildStage = STAGE_INITIALIZING;
+        this.shouldExplainTestSelectorList = JUnitJvmArgs.super.isShouldExplainTestSelectorList();
+        shouldExplainTestSelectorListBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shouldExplainTestSelectorList;
+    }
+
+    void setShouldExplainTestSelectorList(boolean shouldExplainTestSelectorList) {
+      this.shouldExplainTestSelectorList = shouldExplainTestSelectorList;
+      shouldExplainTestSelectorListBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (debugEnabledBuildStage == STAGE_INITIALIZING) attributes.add("debugEnabled");
+      if (codeCoverageEnabledBuildStage == STAGE_INITIALIZING) attributes.add("codeCoverageEnabled");
+      if (inclNoLocationClassesEnabledBuildStage == STAGE_INITIALIZING) attributes.add("inclNoLocationClassesEnabled");
+      if (shouldExplainTestSelectorListBuildStage == STAGE_INITIALIZING) attributes.add("shouldExplainTestSelectorList");
+      return "Cannot build JUnitJvmArgs, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   *@return Directory to use to write test results to. 
+   */
+  @Override
+  public Optional<Path> getDirectoryForTestResults() {
+    return Optional.ofNullable(directoryForTestResults);
+  }
+
+  /**
+   * @return Path to newline-separated file containing classpath entries with which to run the JVM.
+   */
+  @Override
+  public Path getClasspathFile() {
+    return classpathFile;
+  }
+
+  /**
+   *@return The type of test runner to use. 
+   */
+  @Override
+  public TestType getTestType() {
+    return testType;
+  }
+
+  /**
+   * @return If true, suspend the JVM to allow a debugger to attach after launch. Defaults to false.
+   */
+  @Override
+  public boolean isDebugEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isDebugEnabled()
+        : this.debugEnabled;
+  }
+
+  /**
+   * @return If true, gathers code coverage metrics when running tests.
+   *     <p>Defaults to false.
+   */
+  @Override
+  public boolean isCodeCoverageEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isCodeCoverageEnabled()
+        : this.codeCoverageEnabled;
+  }
+
+  /**
+   * @return If true, passes inclNoLocationClassesEnabled=true to the jacoco java agent.
+   *     <p>Defaults to false.
+   */
+  @Override
+  public boolean isInclNoLocationClassesEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isInclNoLocationClassesEnabled()
+        : this.inclNoLocationClassesEnabled;
+  }
+
+  /**
+   *@return If true, include explanations for tests that were filtered out. 
+   */
+  @Override
+  public boolean isShouldExplainTestSelectorList() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isShouldExplainTestSelectorList()
+        : this.shouldExplainTestSelectorList;
+  }
+
+  /**
+   *@return The filesystem path to a JVM agent (i.e., a profiler). 
+   */
+  @Override
+  public Optional<String> getPathToJavaAgent() {
+    return Optional.ofNullable(pathToJavaAgent);
+  }
+
+  /**
+   *@return Unique identifier for the build. 
+   */
+  @Override
+  public BuildId getBuildId() {
+    return buildId;
+  }
+
+  /**
+   *@return The filesystem path to the source code for the Buck module under test. 
+   */
+  @Override
+  public Path getBuckModuleBaseSourceCodePath() {
+    return buckModuleBaseSourceCodePath;
+  }
+
+  /**
+   * @return If set, specifies a minimum Java logging level at and above which java.util.logging
+   *     logs will be written to stdout.
+   */
+  @Override
+  public Optional<Level> getStdOutLogLevel() {
+    return Optional.ofNullable(stdOutLogLevel);
+  }
+
+  /**
+   * @return If set, specifies a minimum Java logging level at and above which java.util.logging
+   *     logs will be written to stderr.
+   */
+  @Override
+  public Optional<Level> getStdErrLogLevel() {
+    return Optional.ofNullable(stdErrLogLevel);
+  }
+
+  /**
+   * @return If set, specifies a filesystem path to which Robolectric debug logs will be written
+   *     during the test.
+   */
+  @Override
+  public Optional<Path> getRobolectricLogPath() {
+    return Optional.ofNullable(robolectricLogPath);
+  }
+
+  /**
+   *@return The filesystem path to the compiled Buck test runner classes. 
+   */
+  @Override
+  public Path getTestRunnerClasspath() {
+    return testRunnerClasspath;
+  }
+
+  /**
+   *@return Extra JVM args to pass on the command line. 
+   */
+  @Override
+  public Optional<ImmutableList<String>> getExtraJvmArgs() {
+    return Optional.ofNullable(extraJvmArgs);
+  }
+
+  /**
+   *@return Name of test classes to run. 
+   */
+  @Override
+  public ImmutableList<String> getTestClasses() {
+    return testClasses;
+  }
+
+  /**
+   *@return Test selectors with which to filter the tests to run. 
+   */
+  @Override
+  public Optional<TestSelectorList> getTestSelectorList() {
+    return Optional.ofNullable(testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractJUnitJvmArgs#getDirectoryForTestResults() directoryForTestResults} attribute.
+   * @param value The value for directoryForTestResults
+   * @return A modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withDirectoryForTestResults(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "directoryForTestResults");
+    if (this.directoryForTestResults == newValue) return this;
+    return new JUnitJvmArgs(
+        newValue,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractJUnitJvmArgs#getDirectoryForTestResults() directoryForTestResults} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for directoryForTestResults
+   * @return A modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withDirectoryForTestResults(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.directoryForTestResults == value) return this;
+    return new JUnitJvmArgs(
+        value,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJUnitJvmArgs#getClasspathFile() classpathFile} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for classpathFile
+   * @return A modified copy of the {@code this} object
+   */
+  public final JUnitJvmArgs withClasspathFile(Path value) {
+    if (this.classpathFile == value) return this;
+    Path newValue = Objects.requireNonNull(value, "classpathFile");
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        newValue,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJUnitJvmArgs#getTestType() testType} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for testType
+   * @return A modified copy of the {@code this} object
+   */
+  public final JUnitJvmArgs withTestType(TestType value) {
+    if (this.testType == value) return this;
+    TestType newValue = Objects.requireNonNull(value, "testType");
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        newValue,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJUnitJvmArgs#isDebugEnabled() debugEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for debugEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final JUnitJvmArgs withDebugEnabled(boolean value) {
+    if (this.debugEnabled == value) return this;
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        value,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJUnitJvmArgs#isCodeCoverageEnabled() codeCoverageEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for codeCoverageEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final JUnitJvmArgs withCodeCoverageEnabled(boolean value) {
+    if (this.codeCoverageEnabled == value) return this;
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        value,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJUnitJvmArgs#isInclNoLocationClassesEnabled() inclNoLocationClassesEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for inclNoLocationClassesEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final JUnitJvmArgs withInclNoLocationClassesEnabled(boolean value) {
+    if (this.inclNoLocationClassesEnabled == value) return this;
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        value,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJUnitJvmArgs#isShouldExplainTestSelectorList() shouldExplainTestSelectorList} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for shouldExplainTestSelectorList
+   * @return A modified copy of the {@code this} object
+   */
+  public final JUnitJvmArgs withShouldExplainTestSelectorList(boolean value) {
+    if (this.shouldExplainTestSelectorList == value) return this;
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        value,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractJUnitJvmArgs#getPathToJavaAgent() pathToJavaAgent} attribute.
+   * @param value The value for pathToJavaAgent
+   * @return A modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withPathToJavaAgent(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "pathToJavaAgent");
+    if (Objects.equals(this.pathToJavaAgent, newValue)) return this;
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        newValue,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractJUnitJvmArgs#getPathToJavaAgent() pathToJavaAgent} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for pathToJavaAgent
+   * @return A modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withPathToJavaAgent(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.pathToJavaAgent, value)) return this;
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        value,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJUnitJvmArgs#getBuildId() buildId} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildId
+   * @return A modified copy of the {@code this} object
+   */
+  public final JUnitJvmArgs withBuildId(BuildId value) {
+    if (this.buildId == value) return this;
+    BuildId newValue = Objects.requireNonNull(value, "buildId");
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        newValue,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJUnitJvmArgs#getBuckModuleBaseSourceCodePath() buckModuleBaseSourceCodePath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckModuleBaseSourceCodePath
+   * @return A modified copy of the {@code this} object
+   */
+  public final JUnitJvmArgs withBuckModuleBaseSourceCodePath(Path value) {
+    if (this.buckModuleBaseSourceCodePath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "buckModuleBaseSourceCodePath");
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        newValue,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractJUnitJvmArgs#getStdOutLogLevel() stdOutLogLevel} attribute.
+   * @param value The value for stdOutLogLevel
+   * @return A modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withStdOutLogLevel(Level value) {
+    @Nullable Level newValue = Objects.requireNonNull(value, "stdOutLogLevel");
+    if (this.stdOutLogLevel == newValue) return this;
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        newValue,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractJUnitJvmArgs#getStdOutLogLevel() stdOutLogLevel} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for stdOutLogLevel
+   * @return A modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withStdOutLogLevel(Optional<? extends Level> optional) {
+    @Nullable Level value = optional.orElse(null);
+    if (this.stdOutLogLevel == value) return this;
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        value,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractJUnitJvmArgs#getStdErrLogLevel() stdErrLogLevel} attribute.
+   * @param value The value for stdErrLogLevel
+   * @return A modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withStdErrLogLevel(Level value) {
+    @Nullable Level newValue = Objects.requireNonNull(value, "stdErrLogLevel");
+    if (this.stdErrLogLevel == newValue) return this;
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        newValue,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractJUnitJvmArgs#getStdErrLogLevel() stdErrLogLevel} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for stdErrLogLevel
+   * @return A modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withStdErrLogLevel(Optional<? extends Level> optional) {
+    @Nullable Level value = optional.orElse(null);
+    if (this.stdErrLogLevel == value) return this;
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        value,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractJUnitJvmArgs#getRobolectricLogPath() robolectricLogPath} attribute.
+   * @param value The value for robolectricLogPath
+   * @return A modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withRobolectricLogPath(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "robolectricLogPath");
+    if (this.robolectricLogPath == newValue) return this;
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        newValue,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractJUnitJvmArgs#getRobolectricLogPath() robolectricLogPath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for robolectricLogPath
+   * @return A modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withRobolectricLogPath(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.robolectricLogPath == value) return this;
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        value,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJUnitJvmArgs#getTestRunnerClasspath() testRunnerClasspath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for testRunnerClasspath
+   * @return A modified copy of the {@code this} object
+   */
+  public final JUnitJvmArgs withTestRunnerClasspath(Path value) {
+    if (this.testRunnerClasspath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "testRunnerClasspath");
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        newValue,
+        this.extraJvmArgs,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractJUnitJvmArgs#getExtraJvmArgs() extraJvmArgs} attribute.
+   * @param value The value for extraJvmArgs
+   * @return A modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withExtraJvmArgs(ImmutableList<String> value) {
+    @Nullable ImmutableList<String> newValue = Objects.requireNonNull(value, "extraJvmArgs");
+    if (this.extraJvmArgs == newValue) return this;
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        newValue,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractJUnitJvmArgs#getExtraJvmArgs() extraJvmArgs} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for extraJvmArgs
+   * @return A modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withExtraJvmArgs(Optional<? extends ImmutableList<String>> optional) {
+    @Nullable ImmutableList<String> value = optional.orElse(null);
+    if (this.extraJvmArgs == value) return this;
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        value,
+        this.testClasses,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJUnitJvmArgs#getTestClasses() testClasses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withTestClasses(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        newValue,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJUnitJvmArgs#getTestClasses() testClasses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of testClasses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withTestClasses(Iterable<String> elements) {
+    if (this.testClasses == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        newValue,
+        this.testSelectorList);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractJUnitJvmArgs#getTestSelectorList() testSelectorList} attribute.
+   * @param value The value for testSelectorList
+   * @return A modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withTestSelectorList(TestSelectorList value) {
+    @Nullable TestSelectorList newValue = Objects.requireNonNull(value, "testSelectorList");
+    if (this.testSelectorList == newValue) return this;
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractJUnitJvmArgs#getTestSelectorList() testSelectorList} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for testSelectorList
+   * @return A modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withTestSelectorList(Optional<? extends TestSelectorList> optional) {
+    @Nullable TestSelectorList value = optional.orElse(null);
+    if (this.testSelectorList == value) return this;
+    return new JUnitJvmArgs(
+        this.directoryForTestResults,
+        this.classpathFile,
+        this.testType,
+        this.debugEnabled,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldExplainTestSelectorList,
+        this.pathToJavaAgent,
+        this.buildId,
+        this.buckModuleBaseSourceCodePath,
+        this.stdOutLogLevel,
+        this.stdErrLogLevel,
+        this.robolectricLogPath,
+        this.testRunnerClasspath,
+        this.extraJvmArgs,
+        this.testClasses,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JUnitJvmArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JUnitJvmArgs
+        && equalTo((JUnitJvmArgs) another);
+  }
+
+  private boolean equalTo(JUnitJvmArgs another) {
+    return Objects.equals(directoryForTestResults, another.directoryForTestResults)
+        && classpathFile.equals(another.classpathFile)
+        && testType.equals(another.testType)
+        && debugEnabled == another.debugEnabled
+        && codeCoverageEnabled == another.codeCoverageEnabled
+        && inclNoLocationClassesEnabled == another.inclNoLocationClassesEnabled
+        && shouldExplainTestSelectorList == another.shouldExplainTestSelectorList
+        && Objects.equals(pathToJavaAgent, another.pathToJavaAgent)
+        && buildId.equals(another.buildId)
+        && buckModuleBaseSourceCodePath.equals(another.buckModuleBaseSourceCodePath)
+        && Objects.equals(stdOutLogLevel, another.stdOutLogLevel)
+        && Objects.equals(stdErrLogLevel, another.stdErrLogLevel)
+        && Objects.equals(robolectricLogPath, another.robolectricLogPath)
+        && testRunnerClasspath.equals(another.testRunnerClasspath)
+        && Objects.equals(extraJvmArgs, another.extraJvmArgs)
+        && testClasses.equals(another.testClasses)
+        && Objects.equals(testSelectorList, another.testSelectorList);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code directoryForTestResults}, {@code classpathFile}, {@code testType}, {@code debugEnabled}, {@code codeCoverageEnabled}, {@code inclNoLocationClassesEnabled}, {@code shouldExplainTestSelectorList}, {@code pathToJavaAgent}, {@code buildId}, {@code buckModuleBaseSourceCodePath}, {@code stdOutLogLevel}, {@code stdErrLogLevel}, {@code robolectricLogPath}, {@code testRunnerClasspath}, {@code extraJvmArgs}, {@code testClasses}, {@code testSelectorList}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(directoryForTestResults);
+    h += (h << 5) + classpathFile.hashCode();
+    h += (h << 5) + testType.hashCode();
+    h += (h << 5) + Booleans.hashCode(debugEnabled);
+    h += (h << 5) + Booleans.hashCode(codeCoverageEnabled);
+    h += (h << 5) + Booleans.hashCode(inclNoLocationClassesEnabled);
+    h += (h << 5) + Booleans.hashCode(shouldExplainTestSelectorList);
+    h += (h << 5) + Objects.hashCode(pathToJavaAgent);
+    h += (h << 5) + buildId.hashCode();
+    h += (h << 5) + buckModuleBaseSourceCodePath.hashCode();
+    h += (h << 5) + Objects.hashCode(stdOutLogLevel);
+    h += (h << 5) + Objects.hashCode(stdErrLogLevel);
+    h += (h << 5) + Objects.hashCode(robolectricLogPath);
+    h += (h << 5) + testRunnerClasspath.hashCode();
+    h += (h << 5) + Objects.hashCode(extraJvmArgs);
+    h += (h << 5) + testClasses.hashCode();
+    h += (h << 5) + Objects.hashCode(testSelectorList);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JUnitJvmArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JUnitJvmArgs")
+        .omitNullValues()
+        .add("directoryForTestResults", directoryForTestResults)
+        .add("classpathFile", classpathFile)
+        .add("testType", testType)
+        .add("debugEnabled", debugEnabled)
+        .add("codeCoverageEnabled", codeCoverageEnabled)
+        .add("inclNoLocationClassesEnabled", inclNoLocationClassesEnabled)
+        .add("shouldExplainTestSelectorList", shouldExplainTestSelectorList)
+        .add("pathToJavaAgent", pathToJavaAgent)
+        .add("buildId", buildId)
+        .add("buckModuleBaseSourceCodePath", buckModuleBaseSourceCodePath)
+        .add("stdOutLogLevel", stdOutLogLevel)
+        .add("stdErrLogLevel", stdErrLogLevel)
+        .add("robolectricLogPath", robolectricLogPath)
+        .add("testRunnerClasspath", testRunnerClasspath)
+        .add("extraJvmArgs", extraJvmArgs)
+        .add("testClasses", testClasses)
+        .add("testSelectorList", testSelectorList)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractJUnitJvmArgs} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable JUnitJvmArgs instance
+   */
+  static JUnitJvmArgs copyOf(AbstractJUnitJvmArgs instance) {
+    if (instance instanceof JUnitJvmArgs) {
+      return (JUnitJvmArgs) instance;
+    }
+    return JUnitJvmArgs.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link JUnitJvmArgs JUnitJvmArgs}.
+   * @return A new JUnitJvmArgs builder
+   */
+  public static JUnitJvmArgs.Builder builder() {
+    return new JUnitJvmArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link JUnitJvmArgs JUnitJvmArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CLASSPATH_FILE = 0x1L;
+    private static final long INIT_BIT_TEST_TYPE = 0x2L;
+    private static final long INIT_BIT_BUILD_ID = 0x4L;
+    private static final long INIT_BIT_BUCK_MODULE_BASE_SOURCE_CODE_PATH = 0x8L;
+    private static final long INIT_BIT_TEST_RUNNER_CLASSPATH = 0x10L;
+    private static final long OPT_BIT_DEBUG_ENABLED = 0x1L;
+    private static final long OPT_BIT_CODE_COVERAGE_ENABLED = 0x2L;
+    private static final long OPT_BIT_INCL_NO_LOCATION_CLASSES_ENABLED = 0x4L;
+    private static final long OPT_BIT_SHOULD_EXPLAIN_TEST_SELECTOR_LIST = 0x8L;
+    private long initBits = 0x1fL;
+    private long optBits;
+
+    private @Nullable Path directoryForTestResults;
+    private @Nullable Path classpathFile;
+    private @Nullable TestType testType;
+    private boolean debugEnabled;
+    private boolean codeCoverageEnabled;
+    private boolean inclNoLocationClassesEnabled;
+    private boolean shouldExplainTestSelectorList;
+    private @Nullable String pathToJavaAgent;
+    private @Nullable BuildId buildId;
+    private @Nullable Path buckModuleBaseSourceCodePath;
+    private @Nullable Level stdOutLogLevel;
+    private @Nullable Level stdErrLogLevel;
+    private @Nullable Path robolectricLogPath;
+    private @Nullable Path testRunnerClasspath;
+    private @Nullable ImmutableList<String> extraJvmArgs;
+    private ImmutableList.Builder<String> testClasses = ImmutableList.builder();
+    private @Nullable TestSelectorList testSelectorList;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JUnitJvmArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(JUnitJvmArgs instance) {
+      return from((AbstractJUnitJvmArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractJUnitJvmArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractJUnitJvmArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<Path> directoryForTestResultsOptional = instance.getDirectoryForTestResults();
+      if (directoryForTestResultsOptional.isPresent()) {
+        setDirectoryForTestResults(directoryForTestResultsOptional);
+      }
+      setClasspathFile(instance.getClasspathFile());
+      setTestType(instance.getTestType());
+      setDebugEnabled(instance.isDebugEnabled());
+      setCodeCoverageEnabled(instance.isCodeCoverageEnabled());
+      setInclNoLocationClassesEnabled(instance.isInclNoLocationClassesEnabled());
+      setShouldExplainTestSelectorList(instance.isShouldExplainTestSelectorList());
+      Optional<String> pathToJavaAgentOptional = instance.getPathToJavaAgent();
+      if (pathToJavaAgentOptional.isPresent()) {
+        setPathToJavaAgent(pathToJavaAgentOptional);
+      }
+      setBuildId(instance.getBuildId());
+      setBuckModuleBaseSourceCodePath(instance.getBuckModuleBaseSourceCodePath());
+      Optional<Level> stdOutLogLevelOptional = instance.getStdOutLogLevel();
+      if (stdOutLogLevelOptional.isPresent()) {
+        setStdOutLogLevel(stdOutLogLevelOptional);
+      }
+      Optional<Level> stdErrLogLevelOptional = instance.getStdErrLogLevel();
+      if (stdErrLogLevelOptional.isPresent()) {
+        setStdErrLogLevel(stdErrLogLevelOptional);
+      }
+      Optional<Path> robolectricLogPathOptional = instance.getRobolectricLogPath();
+      if (robolectricLogPathOptional.isPresent()) {
+        setRobolectricLogPath(robolectricLogPathOptional);
+      }
+      setTestRunnerClasspath(instance.getTestRunnerClasspath());
+      Optional<ImmutableList<String>> extraJvmArgsOptional = instance.getExtraJvmArgs();
+      if (extraJvmArgsOptional.isPresent()) {
+        setExtraJvmArgs(extraJvmArgsOptional);
+      }
+      addAllTestClasses(instance.getTestClasses());
+      Optional<TestSelectorList> testSelectorListOptional = instance.getTestSelectorList();
+      if (testSelectorListOptional.isPresent()) {
+        setTestSelectorList(testSelectorListOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJUnitJvmArgs#getDirectoryForTestResults() directoryForTestResults} to directoryForTestResults.
+     * @param directoryForTestResults The value for directoryForTestResults
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDirectoryForTestResults(Path directoryForTestResults) {
+      this.directoryForTestResults = Objects.requireNonNull(directoryForTestResults, "directoryForTestResults");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJUnitJvmArgs#getDirectoryForTestResults() directoryForTestResults} to directoryForTestResults.
+     * @param directoryForTestResults The value for directoryForTestResults
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDirectoryForTestResults(Optional<? extends Path> directoryForTestResults) {
+      this.directoryForTestResults = directoryForTestResults.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractJUnitJvmArgs#getClasspathFile() classpathFile} attribute.
+     * @param classpathFile The value for classpathFile 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setClasspathFile(Path classpathFile) {
+      this.classpathFile = Objects.requireNonNull(classpathFile, "classpathFile");
+      initBits &= ~INIT_BIT_CLASSPATH_FILE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractJUnitJvmArgs#getTestType() testType} attribute.
+     * @param testType The value for testType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestType(TestType testType) {
+      this.testType = Objects.requireNonNull(testType, "testType");
+      initBits &= ~INIT_BIT_TEST_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractJUnitJvmArgs#isDebugEnabled() debugEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractJUnitJvmArgs#isDebugEnabled() debugEnabled}.</em>
+     * @param debugEnabled The value for debugEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDebugEnabled(boolean debugEnabled) {
+      this.debugEnabled = debugEnabled;
+      optBits |= OPT_BIT_DEBUG_ENABLED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractJUnitJvmArgs#isCodeCoverageEnabled() codeCoverageEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractJUnitJvmArgs#isCodeCoverageEnabled() codeCoverageEnabled}.</em>
+     * @param codeCoverageEnabled The value for codeCoverageEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCodeCoverageEnabled(boolean codeCoverageEnabled) {
+      this.codeCoverageEnabled = codeCoverageEnabled;
+      optBits |= OPT_BIT_CODE_COVERAGE_ENABLED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractJUnitJvmArgs#isInclNoLocationClassesEnabled() inclNoLocationClassesEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractJUnitJvmArgs#isInclNoLocationClassesEnabled() inclNoLocationClassesEnabled}.</em>
+     * @param inclNoLocationClassesEnabled The value for inclNoLocationClassesEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInclNoLocationClassesEnabled(boolean inclNoLocationClassesEnabled) {
+      this.inclNoLocationClassesEnabled = inclNoLocationClassesEnabled;
+      optBits |= OPT_BIT_INCL_NO_LOCATION_CLASSES_ENABLED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractJUnitJvmArgs#isShouldExplainTestSelectorList() shouldExplainTestSelectorList} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractJUnitJvmArgs#isShouldExplainTestSelectorList() shouldExplainTestSelectorList}.</em>
+     * @param shouldExplainTestSelectorList The value for shouldExplainTestSelectorList 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setShouldExplainTestSelectorList(boolean shouldExplainTestSelectorList) {
+      this.shouldExplainTestSelectorList = shouldExplainTestSelectorList;
+      optBits |= OPT_BIT_SHOULD_EXPLAIN_TEST_SELECTOR_LIST;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractJUnitJvmArgs#getPathToJavaAgent() pathToJavaAgent} to pathToJavaAgent.
+     * @param pathToJavaAgent The value for pathToJavaAgent
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPathToJavaAgent(String pathToJavaAgent) {
+      this.pathToJavaAgent = Objects.requireNonNull(pathToJavaAgent, "pathToJavaAgent");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJUnitJvmArgs#getPathToJavaAgent() pathToJavaAgent} to pathToJavaAgent.
+     * @param pathToJavaAgent The value for pathToJavaAgent
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPathToJavaAgent(Optional<String> pathToJavaAgent) {
+      this.pathToJavaAgent = pathToJavaAgent.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractJUnitJvmArgs#getBuildId() buildId} attribute.
+     * @param buildId The value for buildId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildId(BuildId buildId) {
+      this.buildId = Objects.requireNonNull(buildId, "buildId");
+      initBits &= ~INIT_BIT_BUILD_ID;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractJUnitJvmArgs#getBuckModuleBaseSourceCodePath() buckModuleBaseSourceCodePath} attribute.
+     * @param buckModuleBaseSourceCodePath The value for buckModuleBaseSourceCodePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuckModuleBaseSourceCodePath(Path buckModuleBaseSourceCodePath) {
+      this.buckModuleBaseSourceCodePath = Objects.requireNonNull(buckModuleBaseSourceCodePath, "buckModuleBaseSourceCodePath");
+      initBits &= ~INIT_BIT_BUCK_MODULE_BASE_SOURCE_CODE_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractJUnitJvmArgs#getStdOutLogLevel() stdOutLogLevel} to stdOutLogLevel.
+     * @param stdOutLogLevel The value for stdOutLogLevel
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStdOutLogLevel(Level stdOutLogLevel) {
+      this.stdOutLogLevel = Objects.requireNonNull(stdOutLogLevel, "stdOutLogLevel");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJUnitJvmArgs#getStdOutLogLevel() stdOutLogLevel} to stdOutLogLevel.
+     * @param stdOutLogLevel The value for stdOutLogLevel
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStdOutLogLevel(Optional<? extends Level> stdOutLogLevel) {
+      this.stdOutLogLevel = stdOutLogLevel.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJUnitJvmArgs#getStdErrLogLevel() stdErrLogLevel} to stdErrLogLevel.
+     * @param stdErrLogLevel The value for stdErrLogLevel
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStdErrLogLevel(Level stdErrLogLevel) {
+      this.stdErrLogLevel = Objects.requireNonNull(stdErrLogLevel, "stdErrLogLevel");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJUnitJvmArgs#getStdErrLogLevel() stdErrLogLevel} to stdErrLogLevel.
+     * @param stdErrLogLevel The value for stdErrLogLevel
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStdErrLogLevel(Optional<? extends Level> stdErrLogLevel) {
+      this.stdErrLogLevel = stdErrLogLevel.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJUnitJvmArgs#getRobolectricLogPath() robolectricLogPath} to robolectricLogPath.
+     * @param robolectricLogPath The value for robolectricLogPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRobolectricLogPath(Path robolectricLogPath) {
+      this.robolectricLogPath = Objects.requireNonNull(robolectricLogPath, "robolectricLogPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJUnitJvmArgs#getRobolectricLogPath() robolectricLogPath} to robolectricLogPath.
+     * @param robolectricLogPath The value for robolectricLogPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRobolectricLogPath(Optional<? extends Path> robolectricLogPath) {
+      this.robolectricLogPath = robolectricLogPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractJUnitJvmArgs#getTestRunnerClasspath() testRunnerClasspath} attribute.
+     * @param testRunnerClasspath The value for testRunnerClasspath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestRunnerClasspath(Path testRunnerClasspath) {
+      this.testRunnerClasspath = Objects.requireNonNull(testRunnerClasspath, "testRunnerClasspath");
+      initBits &= ~INIT_BIT_TEST_RUNNER_CLASSPATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractJUnitJvmArgs#getExtraJvmArgs() extraJvmArgs} to extraJvmArgs.
+     * @param extraJvmArgs The value for extraJvmArgs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExtraJvmArgs(ImmutableList<String> extraJvmArgs) {
+      this.extraJvmArgs = Objects.requireNonNull(extraJvmArgs, "extraJvmArgs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJUnitJvmArgs#getExtraJvmArgs() extraJvmArgs} to extraJvmArgs.
+     * @param extraJvmArgs The value for extraJvmArgs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtraJvmArgs(Optional<? extends ImmutableList<String>> extraJvmArgs) {
+      this.extraJvmArgs = extraJvmArgs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractJUnitJvmArgs#getTestClasses() testClasses} list.
+     * @param element A testClasses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTestClasses(String element) {
+      this.testClasses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractJUnitJvmArgs#getTestClasses() testClasses} list.
+     * @param elements An array of testClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTestClasses(String... elements) {
+      this.testClasses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractJUnitJvmArgs#getTestClasses() testClasses} list.
+     * @param elements An iterable of testClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestClasses(Iterable<String> elements) {
+      this.testClasses = ImmutableList.builder();
+      return addAllTestClasses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractJUnitJvmArgs#getTestClasses() testClasses} list.
+     * @param elements An iterable of testClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTestClasses(Iterable<String> elements) {
+      this.testClasses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJUnitJvmArgs#getTestSelectorList() testSelectorList} to testSelectorList.
+     * @param testSelectorList The value for testSelectorList
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestSelectorList(TestSelectorList testSelectorList) {
+      this.testSelectorList = Objects.requireNonNull(testSelectorList, "testSelectorList");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJUnitJvmArgs#getTestSelectorList() testSelectorList} to testSelectorList.
+     * @param testSelectorList The value for testSelectorList
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestSelectorList(Optional<? extends TestSelectorList> testSelectorList) {
+      this.testSelectorList = testSelectorList.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link JUnitJvmArgs JUnitJvmArgs}.
+     * @return An immutable instance of JUnitJvmArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JUnitJvmArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new JUnitJvmArgs(this);
+    }
+
+    private boolean debugEnabledIsSet() {
+      return (optBits & OPT_BIT_DEBUG_ENABLED) != 0;
+    }
+
+    private boolean codeCoverageEnabledIsSet() {
+      return (optBits & OPT_BIT_CODE_COVERAGE_ENABLED) != 0;
+    }
+
+    private boolean inclNoLocationClassesEnabledIsSet() {
+      return (optBits & OPT_BIT_INCL_NO_LOCATION_CLASSES_ENABLED) != 0;
+    }
+
+    private boolean shouldExplainTestSelectorListIsSet() {
+      return (optBits & OPT_BIT_SHOULD_EXPLAIN_TEST_SELECTOR_LIST) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CLASSPATH_FILE) != 0) attributes.add("classpathFile");
+      if ((initBits & INIT_BIT_TEST_TYPE) != 0) attributes.add("testType");
+      if ((initBits & INIT_BIT_BUILD_ID) != 0) attributes.add("buildId");
+      if ((initBits & INIT_BIT_BUCK_MODULE_BASE_SOURCE_CODE_PATH) != 0) attributes.add("buckModuleBaseSourceCodePath");
+      if ((initBits & INIT_BIT_TEST_RUNNER_CLASSPATH) != 0) attributes.add("testRunnerClasspath");
+      return "Cannot build JUnitJvmArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,732 @@
+package com.facebook.buck.jvm.java;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractJarParameters}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code JarParameters.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractJarParameters"})
+@Immutable
+public final class JarParameters extends AbstractJarParameters {
+  private final boolean hashEntries;
+  private final boolean mergeManifests;
+  private final boolean disallowAllDuplicates;
+  private final Path jarPath;
+  private final Predicate<Object> removeEntryPredicate;
+  private final ImmutableSortedSet<Path> entriesToJar;
+  private final @Nullable String mainClass;
+  private final @Nullable Path manifestFile;
+
+  private JarParameters(JarParameters.Builder builder) {
+    this.jarPath = builder.jarPath;
+    this.entriesToJar = builder.entriesToJar;
+    this.mainClass = builder.mainClass;
+    this.manifestFile = builder.manifestFile;
+    if (builder.hashEntriesIsSet()) {
+      initShim.setHashEntries(builder.hashEntries);
+    }
+    if (builder.mergeManifestsIsSet()) {
+      initShim.setMergeManifests(builder.mergeManifests);
+    }
+    if (builder.disallowAllDuplicatesIsSet()) {
+      initShim.setDisallowAllDuplicates(builder.disallowAllDuplicates);
+    }
+    if (builder.removeEntryPredicate != null) {
+      initShim.setRemoveEntryPredicate(builder.removeEntryPredicate);
+    }
+    this.hashEntries = initShim.getHashEntries();
+    this.mergeManifests = initShim.getMergeManifests();
+    this.disallowAllDuplicates = initShim.getDisallowAllDuplicates();
+    this.removeEntryPredicate = initShim.getRemoveEntryPredicate();
+    this.initShim = null;
+  }
+
+  private JarParameters(
+      boolean hashEntries,
+      boolean mergeManifests,
+      boolean disallowAllDuplicates,
+      Path jarPath,
+      Predicate<Object> removeEntryPredicate,
+      ImmutableSortedSet<Path> entriesToJar,
+      @Nullable String mainClass,
+      @Nullable Path manifestFile) {
+    this.hashEntries = hashEntries;
+    this.mergeManifests = mergeManifests;
+    this.disallowAllDuplicates = disallowAllDuplicates;
+    this.jarPath = jarPath;
+    this.removeEntryPredicate = removeEntryPredicate;
+    this.entriesToJar = entriesToJar;
+    this.mainClass = mainClass;
+    this.manifestFile = manifestFile;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean hashEntries;
+    private int hashEntriesBuildStage;
+
+    boolean getHashEntries() {
+      if (hashEntriesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (hashEntriesBuildStage == STAGE_UNINITIALIZED) {
+        hashEntriesBuildStage = STAGE_INITIALIZING;
+        this.hashEntries = JarParameters.super.getHashEntries();
+        hashEntriesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.hashEntries;
+    }
+
+    void setHashEntries(boolean hashEntries) {
+      this.hashEntries = hashEntries;
+      hashEntriesBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean mergeManifests;
+    private int mergeManifestsBuildStage;
+
+    boolean getMergeManifests() {
+      if (mergeManifestsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (mergeManifestsBuildStage == STAGE_UNINITIALIZED) {
+        mergeManifestsBuildStage = STAGE_INITIALIZING;
+        this.mergeManifests = JarParameters.super.getMergeManifests();
+        mergeManifestsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.mergeManifests;
+    }
+
+    void setMergeManifests(boolean mergeManifests) {
+      this.mergeManifests = mergeManifests;
+      mergeManifestsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean disallowAllDuplicates;
+    private int disallowAllDuplicatesBuildStage;
+
+    boolean getDisallowAllDuplicates() {
+      if (disallowAllDuplicatesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (disallowAllDuplicatesBuildStage == STAGE_UNINITIALIZED) {
+        disallowAllDuplicatesBuildStage = STAGE_INITIALIZING;
+        this.disallowAllDuplicates = JarParameters.super.getDisallowAllDuplicates();
+        disallowAllDuplicatesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.disallowAllDuplicates;
+    }
+
+    void setDisallowAllDuplicates(boolean disallowAllDuplicates) {
+      this.disallowAllDuplicates = disallowAllDuplicates;
+      disallowAllDuplicatesBuildStage = STAGE_INITIALIZED;
+    }
+    private Predicate<Object> removeEntryPredicate;
+    private int removeEntryPredicateBuildStage;
+
+    Predicate<Object> getRemoveEntryPredicate() {
+      if (removeEntryPredicateBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (removeEntryPredicateBuildStage == STAGE_UNINITIALIZED) {
+        removeEntryPredicateBuildStage = STAGE_INITIALIZING;
+        this.removeEntryPredicate = Objects.requireNonNull(JarParameters.super.getRemoveEntryPredicate(), "removeEntryPredicate");
+        removeEntryPredicateBuildStage = STAGE_INITIALIZED;
+      }
+      return this.removeEntryPredicate;
+    }
+
+    void setRemoveEntryPredicate(Predicate<Object> removeEntryPredicate) {
+      this.removeEntryPredicate = removeEntryPredicate;
+      removeEntryPredicateBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (hashEntriesBuildStage == STAGE_INITIALIZING) attributes.add("hashEntries");
+      if (mergeManifestsBuildStage == STAGE_INITIALIZING) attributes.add("mergeManifests");
+      if (disallowAllDuplicatesBuildStage == STAGE_INITIALIZING) attributes.add("disallowAllDuplicates");
+      if (removeEntryPredicateBuildStage == STAGE_INITIALIZING) attributes.add("removeEntryPredicate");
+      return "Cannot build JarParameters, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code hashEntries} attribute
+   */
+  @Override
+  public boolean getHashEntries() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getHashEntries()
+        : this.hashEntries;
+  }
+
+  /**
+   * @return The value of the {@code mergeManifests} attribute
+   */
+  @Override
+  public boolean getMergeManifests() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMergeManifests()
+        : this.mergeManifests;
+  }
+
+  /**
+   * @return The value of the {@code disallowAllDuplicates} attribute
+   */
+  @Override
+  public boolean getDisallowAllDuplicates() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDisallowAllDuplicates()
+        : this.disallowAllDuplicates;
+  }
+
+  /**
+   * @return The value of the {@code jarPath} attribute
+   */
+  @Override
+  public Path getJarPath() {
+    return jarPath;
+  }
+
+  /**
+   * @return The value of the {@code removeEntryPredicate} attribute
+   */
+  @Override
+  public Predicate<Object> getRemoveEntryPredicate() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRemoveEntryPredicate()
+        : this.removeEntryPredicate;
+  }
+
+  /**
+   * @return The value of the {@code entriesToJar} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Path> getEntriesToJar() {
+    return entriesToJar;
+  }
+
+  /**
+   * @return The value of the {@code mainClass} attribute
+   */
+  @Override
+  public Optional<String> getMainClass() {
+    return Optional.ofNullable(mainClass);
+  }
+
+  /**
+   * @return The value of the {@code manifestFile} attribute
+   */
+  @Override
+  public Optional<Path> getManifestFile() {
+    return Optional.ofNullable(manifestFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJarParameters#getHashEntries() hashEntries} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for hashEntries
+   * @return A modified copy of the {@code this} object
+   */
+  public final JarParameters withHashEntries(boolean value) {
+    if (this.hashEntries == value) return this;
+    return new JarParameters(
+        value,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.jarPath,
+        this.removeEntryPredicate,
+        this.entriesToJar,
+        this.mainClass,
+        this.manifestFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJarParameters#getMergeManifests() mergeManifests} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for mergeManifests
+   * @return A modified copy of the {@code this} object
+   */
+  public final JarParameters withMergeManifests(boolean value) {
+    if (this.mergeManifests == value) return this;
+    return new JarParameters(
+        this.hashEntries,
+        value,
+        this.disallowAllDuplicates,
+        this.jarPath,
+        this.removeEntryPredicate,
+        this.entriesToJar,
+        this.mainClass,
+        this.manifestFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJarParameters#getDisallowAllDuplicates() disallowAllDuplicates} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for disallowAllDuplicates
+   * @return A modified copy of the {@code this} object
+   */
+  public final JarParameters withDisallowAllDuplicates(boolean value) {
+    if (this.disallowAllDuplicates == value) return this;
+    return new JarParameters(
+        this.hashEntries,
+        this.mergeManifests,
+        value,
+        this.jarPath,
+        this.removeEntryPredicate,
+        this.entriesToJar,
+        this.mainClass,
+        this.manifestFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJarParameters#getJarPath() jarPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for jarPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final JarParameters withJarPath(Path value) {
+    if (this.jarPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "jarPath");
+    return new JarParameters(
+        this.hashEntries,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        newValue,
+        this.removeEntryPredicate,
+        this.entriesToJar,
+        this.mainClass,
+        this.manifestFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJarParameters#getRemoveEntryPredicate() removeEntryPredicate} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for removeEntryPredicate
+   * @return A modified copy of the {@code this} object
+   */
+  public final JarParameters withRemoveEntryPredicate(Predicate<Object> value) {
+    if (this.removeEntryPredicate == value) return this;
+    Predicate<Object> newValue = Objects.requireNonNull(value, "removeEntryPredicate");
+    return new JarParameters(
+        this.hashEntries,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.jarPath,
+        newValue,
+        this.entriesToJar,
+        this.mainClass,
+        this.manifestFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJarParameters#getEntriesToJar() entriesToJar} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for entriesToJar
+   * @return A modified copy of the {@code this} object
+   */
+  public final JarParameters withEntriesToJar(ImmutableSortedSet<Path> value) {
+    if (this.entriesToJar == value) return this;
+    ImmutableSortedSet<Path> newValue = Objects.requireNonNull(value, "entriesToJar");
+    return new JarParameters(
+        this.hashEntries,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.jarPath,
+        this.removeEntryPredicate,
+        newValue,
+        this.mainClass,
+        this.manifestFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractJarParameters#getMainClass() mainClass} attribute.
+   * @param value The value for mainClass
+   * @return A modified copy of {@code this} object
+   */
+  public final JarParameters withMainClass(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "mainClass");
+    if (Objects.equals(this.mainClass, newValue)) return this;
+    return new JarParameters(
+        this.hashEntries,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.jarPath,
+        this.removeEntryPredicate,
+        this.entriesToJar,
+        newValue,
+        this.manifestFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractJarParameters#getMainClass() mainClass} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for mainClass
+   * @return A modified copy of {@code this} object
+   */
+  public final JarParameters withMainClass(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.mainClass, value)) return this;
+    return new JarParameters(
+        this.hashEntries,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.jarPath,
+        this.removeEntryPredicate,
+        this.entriesToJar,
+        value,
+        this.manifestFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractJarParameters#getManifestFile() manifestFile} attribute.
+   * @param value The value for manifestFile
+   * @return A modified copy of {@code this} object
+   */
+  public final JarParameters withManifestFile(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "manifestFile");
+    if (this.manifestFile == newValue) return this;
+    return new JarParameters(
+        this.hashEntries,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.jarPath,
+        this.removeEntryPredicate,
+        this.entriesToJar,
+        this.mainClass,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractJarParameters#getManifestFile() manifestFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for manifestFile
+   * @return A modified copy of {@code this} object
+   */
+  public final JarParameters withManifestFile(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.manifestFile == value) return this;
+    return new JarParameters(
+        this.hashEntries,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.jarPath,
+        this.removeEntryPredicate,
+        this.entriesToJar,
+        this.mainClass,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JarParameters} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JarParameters
+        && equalTo((JarParameters) another);
+  }
+
+  private boolean equalTo(JarParameters another) {
+    return hashEntries == another.hashEntries
+        && mergeManifests == another.mergeManifests
+        && disallowAllDuplicates == another.disallowAllDuplicates
+        && jarPath.equals(another.jarPath)
+        && removeEntryPredicate.equals(another.removeEntryPredicate)
+        && entriesToJar.equals(another.entriesToJar)
+        && Objects.equals(mainClass, another.mainClass)
+        && Objects.equals(manifestFile, another.manifestFile);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code hashEntries}, {@code mergeManifests}, {@code disallowAllDuplicates}, {@code jarPath}, {@code removeEntryPredicate}, {@code entriesToJar}, {@code mainClass}, {@code manifestFile}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Booleans.hashCode(hashEntries);
+    h += (h << 5) + Booleans.hashCode(mergeManifests);
+    h += (h << 5) + Booleans.hashCode(disallowAllDuplicates);
+    h += (h << 5) + jarPath.hashCode();
+    h += (h << 5) + removeEntryPredicate.hashCode();
+    h += (h << 5) + entriesToJar.hashCode();
+    h += (h << 5) + Objects.hashCode(mainClass);
+    h += (h << 5) + Objects.hashCode(manifestFile);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JarParameters} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JarParameters")
+        .omitNullValues()
+        .add("hashEntries", hashEntries)
+        .add("mergeManifests", mergeManifests)
+        .add("disallowAllDuplicates", disallowAllDuplicates)
+        .add("jarPath", jarPath)
+        .add("removeEntryPredicate", removeEntryPredicate)
+        .add("entriesToJar", entriesToJar)
+        .add("mainClass", mainClass)
+        .add("manifestFile", manifestFile)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractJarParameters} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable JarParameters instance
+   */
+  static JarParameters copyOf(AbstractJarParameters instance) {
+    if (instance instanceof JarParameters) {
+      return (JarParameters) instance;
+    }
+    return JarParameters.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link JarParameters JarParameters}.
+   * @return A new JarParameters builder
+   */
+  public static JarParameters.Builder builder() {
+    return new JarParameters.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link JarParameters JarParameters}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_JAR_PATH = 0x1L;
+    private static final long INIT_BIT_ENTRIES_TO_JAR = 0x2L;
+    private static final long OPT_BIT_HASH_ENTRIES = 0x1L;
+    private static final long OPT_BIT_MERGE_MANIFESTS = 0x2L;
+    private static final long OPT_BIT_DISALLOW_ALL_DUPLICATES = 0x4L;
+    private long initBits = 0x3L;
+    private long optBits;
+
+    private boolean hashEntries;
+    private boolean mergeManifests;
+    private boolean disallowAllDuplicates;
+    private @Nullable Path jarPath;
+    private @Nullable Predicate<Object> removeEntryPredicate;
+    private @Nullable ImmutableSortedSet<Path> entriesToJar;
+    private @Nullable String mainClass;
+    private @Nullable Path manifestFile;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JarParameters} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(JarParameters instance) {
+      return from((AbstractJarParameters) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractJarParameters} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractJarParameters instance) {
+      Objects.requireNonNull(instance, "instance");
+      setHashEntries(instance.getHashEntries());
+      setMergeManifests(instance.getMergeManifests());
+      setDisallowAllDuplicates(instance.getDisallowAllDuplicates());
+      setJarPath(instance.getJarPath());
+      setRemoveEntryPredicate(instance.getRemoveEntryPredicate());
+      setEntriesToJar(instance.getEntriesToJar());
+      Optional<String> mainClassOptional = instance.getMainClass();
+      if (mainClassOptional.isPresent()) {
+        setMainClass(mainClassOptional);
+      }
+      Optional<Path> manifestFileOptional = instance.getManifestFile();
+      if (manifestFileOptional.isPresent()) {
+        setManifestFile(manifestFileOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractJarParameters#getHashEntries() hashEntries} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractJarParameters#getHashEntries() hashEntries}.</em>
+     * @param hashEntries The value for hashEntries 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHashEntries(boolean hashEntries) {
+      this.hashEntries = hashEntries;
+      optBits |= OPT_BIT_HASH_ENTRIES;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractJarParameters#getMergeManifests() mergeManifests} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractJarParameters#getMergeManifests() mergeManifests}.</em>
+     * @param mergeManifests The value for mergeManifests 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMergeManifests(boolean mergeManifests) {
+      this.mergeManifests = mergeManifests;
+      optBits |= OPT_BIT_MERGE_MANIFESTS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractJarParameters#getDisallowAllDuplicates() disallowAllDuplicates} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractJarParameters#getDisallowAllDuplicates() disallowAllDuplicates}.</em>
+     * @param disallowAllDuplicates The value for disallowAllDuplicates 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDisallowAllDuplicates(boolean disallowAllDuplicates) {
+      this.disallowAllDuplicates = disallowAllDuplicates;
+      optBits |= OPT_BIT_DISALLOW_ALL_DUPLICATES;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractJarParameters#getJarPath() jarPath} attribute.
+     * @param jarPath The value for jarPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJarPath(Path jarPath) {
+      this.jarPath = Objects.requireNonNull(jarPath, "jarPath");
+      initBits &= ~INIT_BIT_JAR_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractJarParameters#getRemoveEntryPredicate() removeEntryPredicate} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractJarParameters#getRemoveEntryPredicate() removeEntryPredicate}.</em>
+     * @param removeEntryPredicate The value for removeEntryPredicate 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRemoveEntryPredicate(Predicate<Object> removeEntryPredicate) {
+      this.removeEntryPredicate = Objects.requireNonNull(removeEntryPredicate, "removeEntryPredicate");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractJarParameters#getEntriesToJar() entriesToJar} attribute.
+     * @param entriesToJar The value for entriesToJar 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEntriesToJar(ImmutableSortedSet<Path> entriesToJar) {
+      this.entriesToJar = Objects.requireNonNull(entriesToJar, "entriesToJar");
+      initBits &= ~INIT_BIT_ENTRIES_TO_JAR;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractJarParameters#getMainClass() mainClass} to mainClass.
+     * @param mainClass The value for mainClass
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMainClass(String mainClass) {
+      this.mainClass = Objects.requireNonNull(mainClass, "mainClass");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJarParameters#getMainClass() mainClass} to mainClass.
+     * @param mainClass The value for mainClass
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMainClass(Optional<String> mainClass) {
+      this.mainClass = mainClass.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJarParameters#getManifestFile() manifestFile} to manifestFile.
+     * @param manifestFile The value for manifestFile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setManifestFile(Path manifestFile) {
+      this.manifestFile = Objects.requireNonNull(manifestFile, "manifestFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJarParameters#getManifestFile() manifestFile} to manifestFile.
+     * @param manifestFile The value for manifestFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setManifestFile(Optional<? extends Path> manifestFile) {
+      this.manifestFile = manifestFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link JarParameters JarParameters}.
+     * @return An immutable instance of JarParameters
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JarParameters build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new JarParameters(this);
+    }
+
+    private boolean hashEntriesIsSet() {
+      return (optBits & OPT_BIT_HASH_ENTRIES) != 0;
+    }
+
+    private boolean mergeManifestsIsSet() {
+      return (optBits & OPT_BIT_MERGE_MANIFESTS) != 0;
+    }
+
+    private boolean disallowAllDuplicatesIsSet() {
+      return (optBits & OPT_BIT_DISALLOW_ALL_DUPLICATES) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_JAR_PATH) != 0) attributes.add("jarPath");
+      if ((initBits & INIT_BIT_ENTRIES_TO_JAR) != 0) attributes.add("entriesToJar");
+      return "Cannot build JarParameters, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.rules.Tool;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractJavaOptions}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code JavaOptions.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractJavaOptions"})
+@Immutable
+public final class JavaOptions extends AbstractJavaOptions {
+  private final Tool javaRuntimeLauncher;
+
+  private JavaOptions(Tool javaRuntimeLauncher) {
+    this.javaRuntimeLauncher = Objects.requireNonNull(javaRuntimeLauncher, "javaRuntimeLauncher");
+  }
+
+  private JavaOptions(JavaOptions original, Tool javaRuntimeLauncher) {
+    this.javaRuntimeLauncher = javaRuntimeLauncher;
+  }
+
+  /**
+   * @return The value of the {@code javaRuntimeLauncher} attribute
+   */
+  @Override
+  public Tool getJavaRuntimeLauncher() {
+    return javaRuntimeLauncher;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavaOptions#getJavaRuntimeLauncher() javaRuntimeLauncher} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for javaRuntimeLauncher
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavaOptions withJavaRuntimeLauncher(Tool value) {
+    if (this.javaRuntimeLauncher == value) return this;
+    Tool newValue = Objects.requireNonNull(value, "javaRuntimeLauncher");
+    return new JavaOptions(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JavaOptions} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JavaOptions
+        && equalTo((JavaOptions) another);
+  }
+
+  private boolean equalTo(JavaOptions another) {
+    return javaRuntimeLauncher.equals(another.javaRuntimeLauncher);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code javaRuntimeLauncher}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + javaRuntimeLauncher.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavaOptions} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavaOptions")
+        .omitNullValues()
+        .add("javaRuntimeLauncher", javaRuntimeLauncher)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code JavaOptions} instance.
+   * @param javaRuntimeLauncher The value for the {@code javaRuntimeLauncher} attribute
+   * @return An immutable JavaOptions instance
+   */
+  public static JavaOptions of(Tool javaRuntimeLauncher) {
+    return new JavaOptions(javaRuntimeLauncher);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractJavaOptions} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable JavaOptions instance
+   */
+  static JavaOptions copyOf(AbstractJavaOptions instance) {
+    if (instance instanceof JavaOptions) {
+      return (JavaOptions) instance;
+    }
+    return JavaOptions.of(instance.getJavaRuntimeLauncher());
+  }
+}
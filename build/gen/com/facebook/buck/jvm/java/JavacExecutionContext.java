@@ -0,0 +1,788 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.ProjectFilesystemFactory;
+import com.facebook.buck.jvm.core.JavaPackageFinder;
+import com.facebook.buck.rules.CellPathResolver;
+import com.facebook.buck.util.ClassLoaderCache;
+import com.facebook.buck.util.ProcessExecutor;
+import com.facebook.buck.util.Verbosity;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Booleans;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractJavacExecutionContext}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code JavacExecutionContext.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractJavacExecutionContext"})
+@Immutable
+public final class JavacExecutionContext extends AbstractJavacExecutionContext {
+  private final JavacEventSink eventSink;
+  private final PrintStream stdErr;
+  private final ClassLoaderCache classLoaderCache;
+  private final Verbosity verbosity;
+  private final CellPathResolver cellPathResolver;
+  private final JavaPackageFinder javaPackageFinder;
+  private final ProjectFilesystem projectFilesystem;
+  private final ProjectFilesystemFactory projectFilesystemFactory;
+  private final ClassUsageFileWriter usedClassesFileWriter;
+  private final ImmutableMap<String, String> environment;
+  private final ProcessExecutor processExecutor;
+  private final ImmutableList<Path> absolutePathsForInputs;
+  private final @Nullable JarParameters directToJarParameters;
+  private final boolean shouldIndexClasspathJars;
+
+  private JavacExecutionContext(
+      JavacEventSink eventSink,
+      PrintStream stdErr,
+      ClassLoaderCache classLoaderCache,
+      Verbosity verbosity,
+      CellPathResolver cellPathResolver,
+      JavaPackageFinder javaPackageFinder,
+      ProjectFilesystem projectFilesystem,
+      ProjectFilesystemFactory projectFilesystemFactory,
+      ClassUsageFileWriter usedClassesFileWriter,
+      Map<String, ? extends String> environment,
+      ProcessExecutor processExecutor,
+      Iterable<? extends Path> absolutePathsForInputs,
+      Optional<? extends JarParameters> directToJarParameters,
+      boolean shouldIndexClasspathJars) {
+    this.eventSink = Objects.requireNonNull(eventSink, "eventSink");
+    this.stdErr = Objects.requireNonNull(stdErr, "stdErr");
+    this.classLoaderCache = Objects.requireNonNull(classLoaderCache, "classLoaderCache");
+    this.verbosity = Objects.requireNonNull(verbosity, "verbosity");
+    this.cellPathResolver = Objects.requireNonNull(cellPathResolver, "cellPathResolver");
+    this.javaPackageFinder = Objects.requireNonNull(javaPackageFinder, "javaPackageFinder");
+    this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+    this.projectFilesystemFactory = Objects.requireNonNull(projectFilesystemFactory, "projectFilesystemFactory");
+    this.usedClassesFileWriter = Objects.requireNonNull(usedClassesFileWriter, "usedClassesFileWriter");
+    this.environment = ImmutableMap.copyOf(environment);
+    this.processExecutor = Objects.requireNonNull(processExecutor, "processExecutor");
+    this.absolutePathsForInputs = ImmutableList.copyOf(absolutePathsForInputs);
+    this.directToJarParameters = directToJarParameters.orElse(null);
+    this.shouldIndexClasspathJars = shouldIndexClasspathJars;
+  }
+
+  private JavacExecutionContext(
+      JavacExecutionContext original,
+      JavacEventSink eventSink,
+      PrintStream stdErr,
+      ClassLoaderCache classLoaderCache,
+      Verbosity verbosity,
+      CellPathResolver cellPathResolver,
+      JavaPackageFinder javaPackageFinder,
+      ProjectFilesystem projectFilesystem,
+      ProjectFilesystemFactory projectFilesystemFactory,
+      ClassUsageFileWriter usedClassesFileWriter,
+      ImmutableMap<String, String> environment,
+      ProcessExecutor processExecutor,
+      ImmutableList<Path> absolutePathsForInputs,
+      @Nullable JarParameters directToJarParameters,
+      boolean shouldIndexClasspathJars) {
+    this.eventSink = eventSink;
+    this.stdErr = stdErr;
+    this.classLoaderCache = classLoaderCache;
+    this.verbosity = verbosity;
+    this.cellPathResolver = cellPathResolver;
+    this.javaPackageFinder = javaPackageFinder;
+    this.projectFilesystem = projectFilesystem;
+    this.projectFilesystemFactory = projectFilesystemFactory;
+    this.usedClassesFileWriter = usedClassesFileWriter;
+    this.environment = environment;
+    this.processExecutor = processExecutor;
+    this.absolutePathsForInputs = absolutePathsForInputs;
+    this.directToJarParameters = directToJarParameters;
+    this.shouldIndexClasspathJars = shouldIndexClasspathJars;
+  }
+
+  /**
+   * @return The value of the {@code eventSink} attribute
+   */
+  @Override
+  public JavacEventSink getEventSink() {
+    return eventSink;
+  }
+
+  /**
+   * @return The value of the {@code stdErr} attribute
+   */
+  @Override
+  public PrintStream getStdErr() {
+    return stdErr;
+  }
+
+  /**
+   * @return The value of the {@code classLoaderCache} attribute
+   */
+  @Override
+  public ClassLoaderCache getClassLoaderCache() {
+    return classLoaderCache;
+  }
+
+  /**
+   * @return The value of the {@code verbosity} attribute
+   */
+  @Override
+  public Verbosity getVerbosity() {
+    return verbosity;
+  }
+
+  /**
+   * @return The value of the {@code cellPathResolver} attribute
+   */
+  @Override
+  public CellPathResolver getCellPathResolver() {
+    return cellPathResolver;
+  }
+
+  /**
+   * @return The value of the {@code javaPackageFinder} attribute
+   */
+  @Override
+  public JavaPackageFinder getJavaPackageFinder() {
+    return javaPackageFinder;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystemFactory} attribute
+   */
+  @Override
+  public ProjectFilesystemFactory getProjectFilesystemFactory() {
+    return projectFilesystemFactory;
+  }
+
+  /**
+   * @return The value of the {@code usedClassesFileWriter} attribute
+   */
+  @Override
+  public ClassUsageFileWriter getUsedClassesFileWriter() {
+    return usedClassesFileWriter;
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code processExecutor} attribute
+   */
+  @Override
+  public ProcessExecutor getProcessExecutor() {
+    return processExecutor;
+  }
+
+  /**
+   * @return The value of the {@code absolutePathsForInputs} attribute
+   */
+  @Override
+  public ImmutableList<Path> getAbsolutePathsForInputs() {
+    return absolutePathsForInputs;
+  }
+
+  /**
+   *Setting this to non-absent value enables direct to jar output. 
+   */
+  @Override
+  public Optional<JarParameters> getDirectToJarParameters() {
+    return Optional.ofNullable(directToJarParameters);
+  }
+
+  /**
+   *Whether in-process javac lists classpath jars through a {@link ClasspathJarIndexCache}. 
+   */
+  @Override
+  public boolean shouldIndexClasspathJars() {
+    return shouldIndexClasspathJars;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getEventSink() eventSink} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for eventSink
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withEventSink(JavacEventSink value) {
+    if (this.eventSink == value) return this;
+    JavacEventSink newValue = Objects.requireNonNull(value, "eventSink");
+    return new JavacExecutionContext(
+        this,
+        newValue,
+        this.stdErr,
+        this.classLoaderCache,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.projectFilesystemFactory,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarParameters,
+        this.shouldIndexClasspathJars);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getStdErr() stdErr} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for stdErr
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withStdErr(PrintStream value) {
+    if (this.stdErr == value) return this;
+    PrintStream newValue = Objects.requireNonNull(value, "stdErr");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        newValue,
+        this.classLoaderCache,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.projectFilesystemFactory,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarParameters,
+        this.shouldIndexClasspathJars);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getClassLoaderCache() classLoaderCache} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for classLoaderCache
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withClassLoaderCache(ClassLoaderCache value) {
+    if (this.classLoaderCache == value) return this;
+    ClassLoaderCache newValue = Objects.requireNonNull(value, "classLoaderCache");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        newValue,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.projectFilesystemFactory,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarParameters,
+        this.shouldIndexClasspathJars);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getVerbosity() verbosity} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for verbosity
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withVerbosity(Verbosity value) {
+    if (this.verbosity == value) return this;
+    Verbosity newValue = Objects.requireNonNull(value, "verbosity");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        newValue,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.projectFilesystemFactory,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarParameters,
+        this.shouldIndexClasspathJars);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getCellPathResolver() cellPathResolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cellPathResolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withCellPathResolver(CellPathResolver value) {
+    if (this.cellPathResolver == value) return this;
+    CellPathResolver newValue = Objects.requireNonNull(value, "cellPathResolver");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.verbosity,
+        newValue,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.projectFilesystemFactory,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarParameters,
+        this.shouldIndexClasspathJars);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getJavaPackageFinder() javaPackageFinder} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for javaPackageFinder
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withJavaPackageFinder(JavaPackageFinder value) {
+    if (this.javaPackageFinder == value) return this;
+    JavaPackageFinder newValue = Objects.requireNonNull(value, "javaPackageFinder");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.verbosity,
+        this.cellPathResolver,
+        newValue,
+        this.projectFilesystem,
+        this.projectFilesystemFactory,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarParameters,
+        this.shouldIndexClasspathJars);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getProjectFilesystem() projectFilesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectFilesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withProjectFilesystem(ProjectFilesystem value) {
+    if (this.projectFilesystem == value) return this;
+    ProjectFilesystem newValue = Objects.requireNonNull(value, "projectFilesystem");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        newValue,
+        this.projectFilesystemFactory,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarParameters,
+        this.shouldIndexClasspathJars);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getProjectFilesystemFactory() projectFilesystemFactory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectFilesystemFactory
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withProjectFilesystemFactory(ProjectFilesystemFactory value) {
+    if (this.projectFilesystemFactory == value) return this;
+    ProjectFilesystemFactory newValue = Objects.requireNonNull(value, "projectFilesystemFactory");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        newValue,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarParameters,
+        this.shouldIndexClasspathJars);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getUsedClassesFileWriter() usedClassesFileWriter} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for usedClassesFileWriter
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withUsedClassesFileWriter(ClassUsageFileWriter value) {
+    if (this.usedClassesFileWriter == value) return this;
+    ClassUsageFileWriter newValue = Objects.requireNonNull(value, "usedClassesFileWriter");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.projectFilesystemFactory,
+        newValue,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarParameters,
+        this.shouldIndexClasspathJars);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractJavacExecutionContext#getEnvironment() environment} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the environment map
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacExecutionContext withEnvironment(Map<String, ? extends String> entries) {
+    if (this.environment == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.projectFilesystemFactory,
+        this.usedClassesFileWriter,
+        newValue,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarParameters,
+        this.shouldIndexClasspathJars);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getProcessExecutor() processExecutor} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for processExecutor
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withProcessExecutor(ProcessExecutor value) {
+    if (this.processExecutor == value) return this;
+    ProcessExecutor newValue = Objects.requireNonNull(value, "processExecutor");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.projectFilesystemFactory,
+        this.usedClassesFileWriter,
+        this.environment,
+        newValue,
+        this.absolutePathsForInputs,
+        this.directToJarParameters,
+        this.shouldIndexClasspathJars);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacExecutionContext#getAbsolutePathsForInputs() absolutePathsForInputs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacExecutionContext withAbsolutePathsForInputs(Path... elements) {
+    ImmutableList<Path> newValue = ImmutableList.copyOf(elements);
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.projectFilesystemFactory,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        newValue,
+        this.directToJarParameters,
+        this.shouldIndexClasspathJars);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacExecutionContext#getAbsolutePathsForInputs() absolutePathsForInputs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of absolutePathsForInputs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacExecutionContext withAbsolutePathsForInputs(Iterable<? extends Path> elements) {
+    if (this.absolutePathsForInputs == elements) return this;
+    ImmutableList<Path> newValue = ImmutableList.copyOf(elements);
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.projectFilesystemFactory,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        newValue,
+        this.directToJarParameters,
+        this.shouldIndexClasspathJars);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractJavacExecutionContext#getDirectToJarParameters() directToJarParameters} attribute.
+   * @param value The value for directToJarParameters
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacExecutionContext withDirectToJarParameters(JarParameters value) {
+    @Nullable JarParameters newValue = Objects.requireNonNull(value, "directToJarParameters");
+    if (this.directToJarParameters == newValue) return this;
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.projectFilesystemFactory,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        newValue,
+        this.shouldIndexClasspathJars);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractJavacExecutionContext#getDirectToJarParameters() directToJarParameters} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for directToJarParameters
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacExecutionContext withDirectToJarParameters(Optional<? extends JarParameters> optional) {
+    @Nullable JarParameters value = optional.orElse(null);
+    if (this.directToJarParameters == value) return this;
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.projectFilesystemFactory,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        value,
+        this.shouldIndexClasspathJars);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#shouldIndexClasspathJars() shouldIndexClasspathJars} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for shouldIndexClasspathJars
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withShouldIndexClasspathJars(boolean value) {
+    if (this.shouldIndexClasspathJars == value) return this;
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.projectFilesystemFactory,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarParameters,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JavacExecutionContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JavacExecutionContext
+        && equalTo((JavacExecutionContext) another);
+  }
+
+  private boolean equalTo(JavacExecutionContext another) {
+    return eventSink.equals(another.eventSink)
+        && stdErr.equals(another.stdErr)
+        && classLoaderCache.equals(another.classLoaderCache)
+        && verbosity.equals(another.verbosity)
+        && cellPathResolver.equals(another.cellPathResolver)
+        && javaPackageFinder.equals(another.javaPackageFinder)
+        && projectFilesystem.equals(another.projectFilesystem)
+        && projectFilesystemFactory.equals(another.projectFilesystemFactory)
+        && usedClassesFileWriter.equals(another.usedClassesFileWriter)
+        && environment.equals(another.environment)
+        && processExecutor.equals(another.processExecutor)
+        && absolutePathsForInputs.equals(another.absolutePathsForInputs)
+        && Objects.equals(directToJarParameters, another.directToJarParameters)
+        && shouldIndexClasspathJars == another.shouldIndexClasspathJars;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code eventSink}, {@code stdErr}, {@code classLoaderCache}, {@code verbosity}, {@code cellPathResolver}, {@code javaPackageFinder}, {@code projectFilesystem}, {@code projectFilesystemFactory}, {@code usedClassesFileWriter}, {@code environment}, {@code processExecutor}, {@code absolutePathsForInputs}, {@code directToJarParameters}, {@code shouldIndexClasspathJars}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + eventSink.hashCode();
+    h += (h << 5) + stdErr.hashCode();
+    h += (h << 5) + classLoaderCache.hashCode();
+    h += (h << 5) + verbosity.hashCode();
+    h += (h << 5) + cellPathResolver.hashCode();
+    h += (h << 5) + javaPackageFinder.hashCode();
+    h += (h << 5) + projectFilesystem.hashCode();
+    h += (h << 5) + projectFilesystemFactory.hashCode();
+    h += (h << 5) + usedClassesFileWriter.hashCode();
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + processExecutor.hashCode();
+    h += (h << 5) + absolutePathsForInputs.hashCode();
+    h += (h << 5) + Objects.hashCode(directToJarParameters);
+    h += (h << 5) + Booleans.hashCode(shouldIndexClasspathJars);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavacExecutionContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavacExecutionContext")
+        .omitNullValues()
+        .add("eventSink", eventSink)
+        .add("stdErr", stdErr)
+        .add("classLoaderCache", classLoaderCache)
+        .add("verbosity", verbosity)
+        .add("cellPathResolver", cellPathResolver)
+        .add("javaPackageFinder", javaPackageFinder)
+        .add("projectFilesystem", projectFilesystem)
+        .add("projectFilesystemFactory", projectFilesystemFactory)
+        .add("usedClassesFileWriter", usedClassesFileWriter)
+        .add("environment", environment)
+        .add("processExecutor", processExecutor)
+        .add("absolutePathsForInputs", absolutePathsForInputs)
+        .add("directToJarParameters", directToJarParameters)
+        .add("shouldIndexClasspathJars", shouldIndexClasspathJars)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code JavacExecutionContext} instance.
+   * @param eventSink The value for the {@code eventSink} attribute
+   * @param stdErr The value for the {@code stdErr} attribute
+   * @param classLoaderCache The value for the {@code classLoaderCache} attribute
+   * @param verbosity The value for the {@code verbosity} attribute
+   * @param cellPathResolver The value for the {@code cellPathResolver} attribute
+   * @param javaPackageFinder The value for the {@code javaPackageFinder} attribute
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @param projectFilesystemFactory The value for the {@code projectFilesystemFactory} attribute
+   * @param usedClassesFileWriter The value for the {@code usedClassesFileWriter} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param processExecutor The value for the {@code processExecutor} attribute
+   * @param absolutePathsForInputs The value for the {@code absolutePathsForInputs} attribute
+   * @param directToJarParameters The value for the {@code directToJarParameters} attribute
+   * @param shouldIndexClasspathJars The value for the {@code shouldIndexClasspathJars} attribute
+   * @return An immutable JavacExecutionContext instance
+   */
+  public static JavacExecutionContext of(JavacEventSink eventSink, PrintStream stdErr, ClassLoaderCache classLoaderCache, Verbosity verbosity, CellPathResolver cellPathResolver, JavaPackageFinder javaPackageFinder, ProjectFilesystem projectFilesystem, ProjectFilesystemFactory projectFilesystemFactory, ClassUsageFileWriter usedClassesFileWriter, ImmutableMap<String, String> environment, ProcessExecutor processExecutor, ImmutableList<Path> absolutePathsForInputs, Optional<JarParameters> directToJarParameters, boolean shouldIndexClasspathJars) {
+    return of(eventSink, stdErr, classLoaderCache, verbosity, cellPathResolver, javaPackageFinder, projectFilesystem, projectFilesystemFactory, usedClassesFileWriter, environment, processExecutor, (Iterable<? extends Path>) absolutePathsForInputs, directToJarParameters, shouldIndexClasspathJars);
+  }
+
+  /**
+   * Construct a new immutable {@code JavacExecutionContext} instance.
+   * @param eventSink The value for the {@code eventSink} attribute
+   * @param stdErr The value for the {@code stdErr} attribute
+   * @param classLoaderCache The value for the {@code classLoaderCache} attribute
+   * @param verbosity The value for the {@code verbosity} attribute
+   * @param cellPathResolver The value for the {@code cellPathResolver} attribute
+   * @param javaPackageFinder The value for the {@code javaPackageFinder} attribute
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @param projectFilesystemFactory The value for the {@code projectFilesystemFactory} attribute
+   * @param usedClassesFileWriter The value for the {@code usedClassesFileWriter} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param processExecutor The value for the {@code processExecutor} attribute
+   * @param absolutePathsForInputs The value for the {@code absolutePathsForInputs} attribute
+   * @param directToJarParameters The value for the {@code directToJarParameters} attribute
+   * @param shouldIndexClasspathJars The value for the {@code shouldIndexClasspathJars} attribute
+   * @return An immutable JavacExecutionContext instance
+   */
+  public static JavacExecutionContext of(JavacEventSink eventSink, PrintStream stdErr, ClassLoaderCache classLoaderCache, Verbosity verbosity, CellPathResolver cellPathResolver, JavaPackageFinder javaPackageFinder, ProjectFilesystem projectFilesystem, ProjectFilesystemFactory projectFilesystemFactory, ClassUsageFileWriter usedClassesFileWriter, Map<String, ? extends String> environment, ProcessExecutor processExecutor, Iterable<? extends Path> absolutePathsForInputs, Optional<? extends JarParameters> directToJarParameters, boolean shouldIndexClasspathJars) {
+    return new JavacExecutionContext(eventSink, stdErr, classLoaderCache, verbosity, cellPathResolver, javaPackageFinder, projectFilesystem, projectFilesystemFactory, usedClassesFileWriter, environment, processExecutor, absolutePathsForInputs, directToJarParameters, shouldIndexClasspathJars);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractJavacExecutionContext} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable JavacExecutionContext instance
+   */
+  static JavacExecutionContext copyOf(AbstractJavacExecutionContext instance) {
+    if (instance instanceof JavacExecutionContext) {
+      return (JavacExecutionContext) instance;
+    }
+    return JavacExecutionContext.of(instance.getEventSink(), instance.getStdErr(), instance.getClassLoaderCache(), instance.getVerbosity(), instance.getCellPathResolver(), instance.getJavaPackageFinder(), instance.getProjectFilesystem(), instance.getProjectFilesystemFactory(), instance.getUsedClassesFileWriter(), instance.getEnvironment(), instance.getProcessExecutor(), instance.getAbsolutePathsForInputs(), instance.getDirectToJarParameters(), instance.shouldIndexClasspathJars());
+  }
+}
@@ -0,0 +1,347 @@
+package com.facebook.buck.jvm.java;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Fields required by Jsr199Javac in order to configure compiler. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractJavacPluginJsr199Fields"})
+@Immutable
+public final class JavacPluginJsr199Fields extends AbstractJavacPluginJsr199Fields {
+  private final boolean canReuseClassLoader;
+  private final ImmutableSortedSet<String> processorNames;
+  private final ImmutableList<URL> classpath;
+
+  private JavacPluginJsr199Fields(
+      boolean canReuseClassLoader,
+      ImmutableSortedSet<String> processorNames,
+      ImmutableList<URL> classpath) {
+    this.canReuseClassLoader = canReuseClassLoader;
+    this.processorNames = processorNames;
+    this.classpath = classpath;
+  }
+
+  /**
+   * @return The value of the {@code canReuseClassLoader} attribute
+   */
+  @Override
+  public boolean getCanReuseClassLoader() {
+    return canReuseClassLoader;
+  }
+
+  /**
+   * @return The value of the {@code processorNames} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getProcessorNames() {
+    return processorNames;
+  }
+
+  /**
+   * @return The value of the {@code classpath} attribute
+   */
+  @Override
+  public ImmutableList<URL> getClasspath() {
+    return classpath;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacPluginJsr199Fields#getCanReuseClassLoader() canReuseClassLoader} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for canReuseClassLoader
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacPluginJsr199Fields withCanReuseClassLoader(boolean value) {
+    if (this.canReuseClassLoader == value) return this;
+    return new JavacPluginJsr199Fields(value, this.processorNames, this.classpath);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacPluginJsr199Fields#getProcessorNames() processorNames}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacPluginJsr199Fields withProcessorNames(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new JavacPluginJsr199Fields(this.canReuseClassLoader, newValue, this.classpath);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacPluginJsr199Fields#getProcessorNames() processorNames}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of processorNames elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacPluginJsr199Fields withProcessorNames(Iterable<String> elements) {
+    if (this.processorNames == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new JavacPluginJsr199Fields(this.canReuseClassLoader, newValue, this.classpath);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacPluginJsr199Fields#getClasspath() classpath}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacPluginJsr199Fields withClasspath(URL... elements) {
+    ImmutableList<URL> newValue = ImmutableList.copyOf(elements);
+    return new JavacPluginJsr199Fields(this.canReuseClassLoader, this.processorNames, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacPluginJsr199Fields#getClasspath() classpath}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of classpath elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacPluginJsr199Fields withClasspath(Iterable<? extends URL> elements) {
+    if (this.classpath == elements) return this;
+    ImmutableList<URL> newValue = ImmutableList.copyOf(elements);
+    return new JavacPluginJsr199Fields(this.canReuseClassLoader, this.processorNames, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JavacPluginJsr199Fields} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JavacPluginJsr199Fields
+        && equalTo((JavacPluginJsr199Fields) another);
+  }
+
+  private boolean equalTo(JavacPluginJsr199Fields another) {
+    return canReuseClassLoader == another.canReuseClassLoader
+        && processorNames.equals(another.processorNames)
+        && classpath.equals(another.classpath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code canReuseClassLoader}, {@code processorNames}, {@code classpath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Booleans.hashCode(canReuseClassLoader);
+    h += (h << 5) + processorNames.hashCode();
+    h += (h << 5) + classpath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavacPluginJsr199Fields} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavacPluginJsr199Fields")
+        .omitNullValues()
+        .add("canReuseClassLoader", canReuseClassLoader)
+        .add("processorNames", processorNames)
+        .add("classpath", classpath)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractJavacPluginJsr199Fields} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable JavacPluginJsr199Fields instance
+   */
+  static JavacPluginJsr199Fields copyOf(AbstractJavacPluginJsr199Fields instance) {
+    if (instance instanceof JavacPluginJsr199Fields) {
+      return (JavacPluginJsr199Fields) instance;
+    }
+    return JavacPluginJsr199Fields.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link JavacPluginJsr199Fields JavacPluginJsr199Fields}.
+   * @return A new JavacPluginJsr199Fields builder
+   */
+  public static JavacPluginJsr199Fields.Builder builder() {
+    return new JavacPluginJsr199Fields.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link JavacPluginJsr199Fields JavacPluginJsr199Fields}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CAN_REUSE_CLASS_LOADER = 0x1L;
+    private long initBits = 0x1L;
+
+    private boolean canReuseClassLoader;
+    private ImmutableSortedSet.Builder<String> processorNames = ImmutableSortedSet.naturalOrder();
+    private ImmutableList.Builder<URL> classpath = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JavacPluginJsr199Fields} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(JavacPluginJsr199Fields instance) {
+      return from((AbstractJavacPluginJsr199Fields) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractJavacPluginJsr199Fields} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractJavacPluginJsr199Fields instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCanReuseClassLoader(instance.getCanReuseClassLoader());
+      addAllProcessorNames(instance.getProcessorNames());
+      addAllClasspath(instance.getClasspath());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractJavacPluginJsr199Fields#getCanReuseClassLoader() canReuseClassLoader} attribute.
+     * @param canReuseClassLoader The value for canReuseClassLoader 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCanReuseClassLoader(boolean canReuseClassLoader) {
+      this.canReuseClassLoader = canReuseClassLoader;
+      initBits &= ~INIT_BIT_CAN_REUSE_CLASS_LOADER;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractJavacPluginJsr199Fields#getProcessorNames() processorNames} sortedSet.
+     * @param element A processorNames element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addProcessorNames(String element) {
+      this.processorNames.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginJsr199Fields#getProcessorNames() processorNames} sortedSet.
+     * @param elements An array of processorNames elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addProcessorNames(String... elements) {
+      this.processorNames.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractJavacPluginJsr199Fields#getProcessorNames() processorNames} sortedSet.
+     * @param elements An iterable of processorNames elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProcessorNames(Iterable<String> elements) {
+      this.processorNames = ImmutableSortedSet.naturalOrder();
+      return addAllProcessorNames(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginJsr199Fields#getProcessorNames() processorNames} sortedSet.
+     * @param elements An iterable of processorNames elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllProcessorNames(Iterable<String> elements) {
+      this.processorNames.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractJavacPluginJsr199Fields#getClasspath() classpath} list.
+     * @param element A classpath element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addClasspath(URL element) {
+      this.classpath.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginJsr199Fields#getClasspath() classpath} list.
+     * @param elements An array of classpath elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addClasspath(URL... elements) {
+      this.classpath.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractJavacPluginJsr199Fields#getClasspath() classpath} list.
+     * @param elements An iterable of classpath elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setClasspath(Iterable<? extends URL> elements) {
+      this.classpath = ImmutableList.builder();
+      return addAllClasspath(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginJsr199Fields#getClasspath() classpath} list.
+     * @param elements An iterable of classpath elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllClasspath(Iterable<? extends URL> elements) {
+      this.classpath.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link JavacPluginJsr199Fields JavacPluginJsr199Fields}.
+     * @return An immutable instance of JavacPluginJsr199Fields
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JavacPluginJsr199Fields build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new JavacPluginJsr199Fields(canReuseClassLoader, processorNames.build(), classpath.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CAN_REUSE_CLASS_LOADER) != 0) attributes.add("canReuseClassLoader");
+      return "Cannot build JavacPluginJsr199Fields, some of required attributes are not set " + attributes;
+    }
+  }
+}
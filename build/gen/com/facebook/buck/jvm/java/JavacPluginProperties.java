@@ -0,0 +1,684 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Describes the properties of a plugin to javac, either a {@link
+ * javax.annotation.processing.Processor} or a {@link com.sun.source.util.Plugin}. The classpath and
+ * input properties in particular can be expensive to compute, so this object should be cached when
+ * possible.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractJavacPluginProperties"})
+@Immutable
+public final class JavacPluginProperties extends AbstractJavacPluginProperties {
+  private final ImmutableSortedSet<String> processorNames;
+  private final ImmutableSortedSet<SourcePath> inputs;
+  private final ImmutableSortedSet<SourcePath> classpathEntries;
+  private final ImmutableList<BuildRule> classpathDeps;
+  private final boolean canReuseClassLoader;
+  private final boolean doesNotAffectAbi;
+  private final boolean supportsAbiGenerationFromSource;
+
+  private JavacPluginProperties(
+      ImmutableSortedSet<String> processorNames,
+      ImmutableSortedSet<SourcePath> inputs,
+      ImmutableSortedSet<SourcePath> classpathEntries,
+      ImmutableList<BuildRule> classpathDeps,
+      boolean canReuseClassLoader,
+      boolean doesNotAffectAbi,
+      boolean supportsAbiGenerationFromSource) {
+    this.processorNames = processorNames;
+    this.inputs = inputs;
+    this.classpathEntries = classpathEntries;
+    this.classpathDeps = classpathDeps;
+    this.canReuseClassLoader = canReuseClassLoader;
+    this.doesNotAffectAbi = doesNotAffectAbi;
+    this.supportsAbiGenerationFromSource = supportsAbiGenerationFromSource;
+  }
+
+  /**
+   * @return The value of the {@code processorNames} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getProcessorNames() {
+    return processorNames;
+  }
+
+  /**
+   * @return The value of the {@code inputs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getInputs() {
+    return inputs;
+  }
+
+  /**
+   * @return The value of the {@code classpathEntries} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getClasspathEntries() {
+    return classpathEntries;
+  }
+
+  /**
+   * @return The value of the {@code classpathDeps} attribute
+   */
+  @Override
+  public ImmutableList<BuildRule> getClasspathDeps() {
+    return classpathDeps;
+  }
+
+  /**
+   * @return The value of the {@code canReuseClassLoader} attribute
+   */
+  @Override
+  public boolean getCanReuseClassLoader() {
+    return canReuseClassLoader;
+  }
+
+  /**
+   * @return The value of the {@code doesNotAffectAbi} attribute
+   */
+  @Override
+  public boolean getDoesNotAffectAbi() {
+    return doesNotAffectAbi;
+  }
+
+  /**
+   * @return The value of the {@code supportsAbiGenerationFromSource} attribute
+   */
+  @Override
+  public boolean getSupportsAbiGenerationFromSource() {
+    return supportsAbiGenerationFromSource;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacPluginProperties#getProcessorNames() processorNames}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacPluginProperties withProcessorNames(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new JavacPluginProperties(
+        newValue,
+        this.inputs,
+        this.classpathEntries,
+        this.classpathDeps,
+        this.canReuseClassLoader,
+        this.doesNotAffectAbi,
+        this.supportsAbiGenerationFromSource);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacPluginProperties#getProcessorNames() processorNames}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of processorNames elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacPluginProperties withProcessorNames(Iterable<String> elements) {
+    if (this.processorNames == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new JavacPluginProperties(
+        newValue,
+        this.inputs,
+        this.classpathEntries,
+        this.classpathDeps,
+        this.canReuseClassLoader,
+        this.doesNotAffectAbi,
+        this.supportsAbiGenerationFromSource);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacPluginProperties#getInputs() inputs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacPluginProperties withInputs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new JavacPluginProperties(
+        this.processorNames,
+        newValue,
+        this.classpathEntries,
+        this.classpathDeps,
+        this.canReuseClassLoader,
+        this.doesNotAffectAbi,
+        this.supportsAbiGenerationFromSource);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacPluginProperties#getInputs() inputs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of inputs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacPluginProperties withInputs(Iterable<? extends SourcePath> elements) {
+    if (this.inputs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new JavacPluginProperties(
+        this.processorNames,
+        newValue,
+        this.classpathEntries,
+        this.classpathDeps,
+        this.canReuseClassLoader,
+        this.doesNotAffectAbi,
+        this.supportsAbiGenerationFromSource);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacPluginProperties#getClasspathEntries() classpathEntries}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacPluginProperties withClasspathEntries(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new JavacPluginProperties(
+        this.processorNames,
+        this.inputs,
+        newValue,
+        this.classpathDeps,
+        this.canReuseClassLoader,
+        this.doesNotAffectAbi,
+        this.supportsAbiGenerationFromSource);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacPluginProperties#getClasspathEntries() classpathEntries}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of classpathEntries elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacPluginProperties withClasspathEntries(Iterable<? extends SourcePath> elements) {
+    if (this.classpathEntries == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new JavacPluginProperties(
+        this.processorNames,
+        this.inputs,
+        newValue,
+        this.classpathDeps,
+        this.canReuseClassLoader,
+        this.doesNotAffectAbi,
+        this.supportsAbiGenerationFromSource);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacPluginProperties#getClasspathDeps() classpathDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacPluginProperties withClasspathDeps(BuildRule... elements) {
+    ImmutableList<BuildRule> newValue = ImmutableList.copyOf(elements);
+    return new JavacPluginProperties(
+        this.processorNames,
+        this.inputs,
+        this.classpathEntries,
+        newValue,
+        this.canReuseClassLoader,
+        this.doesNotAffectAbi,
+        this.supportsAbiGenerationFromSource);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacPluginProperties#getClasspathDeps() classpathDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of classpathDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacPluginProperties withClasspathDeps(Iterable<? extends BuildRule> elements) {
+    if (this.classpathDeps == elements) return this;
+    ImmutableList<BuildRule> newValue = ImmutableList.copyOf(elements);
+    return new JavacPluginProperties(
+        this.processorNames,
+        this.inputs,
+        this.classpathEntries,
+        newValue,
+        this.canReuseClassLoader,
+        this.doesNotAffectAbi,
+        this.supportsAbiGenerationFromSource);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacPluginProperties#getCanReuseClassLoader() canReuseClassLoader} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for canReuseClassLoader
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacPluginProperties withCanReuseClassLoader(boolean value) {
+    if (this.canReuseClassLoader == value) return this;
+    return new JavacPluginProperties(
+        this.processorNames,
+        this.inputs,
+        this.classpathEntries,
+        this.classpathDeps,
+        value,
+        this.doesNotAffectAbi,
+        this.supportsAbiGenerationFromSource);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacPluginProperties#getDoesNotAffectAbi() doesNotAffectAbi} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for doesNotAffectAbi
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacPluginProperties withDoesNotAffectAbi(boolean value) {
+    if (this.doesNotAffectAbi == value) return this;
+    return new JavacPluginProperties(
+        this.processorNames,
+        this.inputs,
+        this.classpathEntries,
+        this.classpathDeps,
+        this.canReuseClassLoader,
+        value,
+        this.supportsAbiGenerationFromSource);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacPluginProperties#getSupportsAbiGenerationFromSource() supportsAbiGenerationFromSource} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for supportsAbiGenerationFromSource
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacPluginProperties withSupportsAbiGenerationFromSource(boolean value) {
+    if (this.supportsAbiGenerationFromSource == value) return this;
+    return new JavacPluginProperties(
+        this.processorNames,
+        this.inputs,
+        this.classpathEntries,
+        this.classpathDeps,
+        this.canReuseClassLoader,
+        this.doesNotAffectAbi,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JavacPluginProperties} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JavacPluginProperties
+        && equalTo((JavacPluginProperties) another);
+  }
+
+  private boolean equalTo(JavacPluginProperties another) {
+    return processorNames.equals(another.processorNames)
+        && inputs.equals(another.inputs)
+        && classpathEntries.equals(another.classpathEntries)
+        && classpathDeps.equals(another.classpathDeps)
+        && canReuseClassLoader == another.canReuseClassLoader
+        && doesNotAffectAbi == another.doesNotAffectAbi
+        && supportsAbiGenerationFromSource == another.supportsAbiGenerationFromSource;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code processorNames}, {@code inputs}, {@code classpathEntries}, {@code classpathDeps}, {@code canReuseClassLoader}, {@code doesNotAffectAbi}, {@code supportsAbiGenerationFromSource}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + processorNames.hashCode();
+    h += (h << 5) + inputs.hashCode();
+    h += (h << 5) + classpathEntries.hashCode();
+    h += (h << 5) + classpathDeps.hashCode();
+    h += (h << 5) + Booleans.hashCode(canReuseClassLoader);
+    h += (h << 5) + Booleans.hashCode(doesNotAffectAbi);
+    h += (h << 5) + Booleans.hashCode(supportsAbiGenerationFromSource);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavacPluginProperties} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavacPluginProperties")
+        .omitNullValues()
+        .add("processorNames", processorNames)
+        .add("inputs", inputs)
+        .add("classpathEntries", classpathEntries)
+        .add("classpathDeps", classpathDeps)
+        .add("canReuseClassLoader", canReuseClassLoader)
+        .add("doesNotAffectAbi", doesNotAffectAbi)
+        .add("supportsAbiGenerationFromSource", supportsAbiGenerationFromSource)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractJavacPluginProperties} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable JavacPluginProperties instance
+   */
+  static JavacPluginProperties copyOf(AbstractJavacPluginProperties instance) {
+    if (instance instanceof JavacPluginProperties) {
+      return (JavacPluginProperties) instance;
+    }
+    return JavacPluginProperties.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link JavacPluginProperties JavacPluginProperties}.
+   * @return A new JavacPluginProperties builder
+   */
+  public static JavacPluginProperties.Builder builder() {
+    return new JavacPluginProperties.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link JavacPluginProperties JavacPluginProperties}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder 
+      extends AbstractJavacPluginProperties.Builder {
+    private static final long INIT_BIT_CAN_REUSE_CLASS_LOADER = 0x1L;
+    private static final long INIT_BIT_DOES_NOT_AFFECT_ABI = 0x2L;
+    private static final long INIT_BIT_SUPPORTS_ABI_GENERATION_FROM_SOURCE = 0x4L;
+    private long initBits = 0x7L;
+
+    private ImmutableSortedSet.Builder<String> processorNames = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> inputs = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> classpathEntries = ImmutableSortedSet.naturalOrder();
+    private ImmutableList.Builder<BuildRule> classpathDeps = ImmutableList.builder();
+    private boolean canReuseClassLoader;
+    private boolean doesNotAffectAbi;
+    private boolean supportsAbiGenerationFromSource;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JavacPluginProperties} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(JavacPluginProperties instance) {
+      return from((AbstractJavacPluginProperties) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractJavacPluginProperties} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractJavacPluginProperties instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllProcessorNames(instance.getProcessorNames());
+      addAllInputs(instance.getInputs());
+      addAllClasspathEntries(instance.getClasspathEntries());
+      addAllClasspathDeps(instance.getClasspathDeps());
+      setCanReuseClassLoader(instance.getCanReuseClassLoader());
+      setDoesNotAffectAbi(instance.getDoesNotAffectAbi());
+      setSupportsAbiGenerationFromSource(instance.getSupportsAbiGenerationFromSource());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractJavacPluginProperties#getProcessorNames() processorNames} sortedSet.
+     * @param element A processorNames element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addProcessorNames(String element) {
+      this.processorNames.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginProperties#getProcessorNames() processorNames} sortedSet.
+     * @param elements An array of processorNames elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addProcessorNames(String... elements) {
+      this.processorNames.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractJavacPluginProperties#getProcessorNames() processorNames} sortedSet.
+     * @param elements An iterable of processorNames elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProcessorNames(Iterable<String> elements) {
+      this.processorNames = ImmutableSortedSet.naturalOrder();
+      return addAllProcessorNames(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginProperties#getProcessorNames() processorNames} sortedSet.
+     * @param elements An iterable of processorNames elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllProcessorNames(Iterable<String> elements) {
+      this.processorNames.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractJavacPluginProperties#getInputs() inputs} sortedSet.
+     * @param element A inputs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addInputs(SourcePath element) {
+      this.inputs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginProperties#getInputs() inputs} sortedSet.
+     * @param elements An array of inputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addInputs(SourcePath... elements) {
+      this.inputs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractJavacPluginProperties#getInputs() inputs} sortedSet.
+     * @param elements An iterable of inputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInputs(Iterable<? extends SourcePath> elements) {
+      this.inputs = ImmutableSortedSet.naturalOrder();
+      return addAllInputs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginProperties#getInputs() inputs} sortedSet.
+     * @param elements An iterable of inputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllInputs(Iterable<? extends SourcePath> elements) {
+      this.inputs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractJavacPluginProperties#getClasspathEntries() classpathEntries} sortedSet.
+     * @param element A classpathEntries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addClasspathEntries(SourcePath element) {
+      this.classpathEntries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginProperties#getClasspathEntries() classpathEntries} sortedSet.
+     * @param elements An array of classpathEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addClasspathEntries(SourcePath... elements) {
+      this.classpathEntries.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractJavacPluginProperties#getClasspathEntries() classpathEntries} sortedSet.
+     * @param elements An iterable of classpathEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setClasspathEntries(Iterable<? extends SourcePath> elements) {
+      this.classpathEntries = ImmutableSortedSet.naturalOrder();
+      return addAllClasspathEntries(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginProperties#getClasspathEntries() classpathEntries} sortedSet.
+     * @param elements An iterable of classpathEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllClasspathEntries(Iterable<? extends SourcePath> elements) {
+      this.classpathEntries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractJavacPluginProperties#getClasspathDeps() classpathDeps} list.
+     * @param element A classpathDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addClasspathDeps(BuildRule element) {
+      this.classpathDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginProperties#getClasspathDeps() classpathDeps} list.
+     * @param elements An array of classpathDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addClasspathDeps(BuildRule... elements) {
+      this.classpathDeps.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractJavacPluginProperties#getClasspathDeps() classpathDeps} list.
+     * @param elements An iterable of classpathDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setClasspathDeps(Iterable<? extends BuildRule> elements) {
+      this.classpathDeps = ImmutableList.builder();
+      return addAllClasspathDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginProperties#getClasspathDeps() classpathDeps} list.
+     * @param elements An iterable of classpathDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllClasspathDeps(Iterable<? extends BuildRule> elements) {
+      this.classpathDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractJavacPluginProperties#getCanReuseClassLoader() canReuseClassLoader} attribute.
+     * @param canReuseClassLoader The value for canReuseClassLoader 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCanReuseClassLoader(boolean canReuseClassLoader) {
+      this.canReuseClassLoader = canReuseClassLoader;
+      initBits &= ~INIT_BIT_CAN_REUSE_CLASS_LOADER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractJavacPluginProperties#getDoesNotAffectAbi() doesNotAffectAbi} attribute.
+     * @param doesNotAffectAbi The value for doesNotAffectAbi 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDoesNotAffectAbi(boolean doesNotAffectAbi) {
+      this.doesNotAffectAbi = doesNotAffectAbi;
+      initBits &= ~INIT_BIT_DOES_NOT_AFFECT_ABI;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractJavacPluginProperties#getSupportsAbiGenerationFromSource() supportsAbiGenerationFromSource} attribute.
+     * @param supportsAbiGenerationFromSource The value for supportsAbiGenerationFromSource 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSupportsAbiGenerationFromSource(boolean supportsAbiGenerationFromSource) {
+      this.supportsAbiGenerationFromSource = supportsAbiGenerationFromSource;
+      initBits &= ~INIT_BIT_SUPPORTS_ABI_GENERATION_FROM_SOURCE;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link JavacPluginProperties JavacPluginProperties}.
+     * @return An immutable instance of JavacPluginProperties
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JavacPluginProperties build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new JavacPluginProperties(
+          processorNames.build(),
+          inputs.build(),
+          classpathEntries.build(),
+          classpathDeps.build(),
+          canReuseClassLoader,
+          doesNotAffectAbi,
+          supportsAbiGenerationFromSource);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CAN_REUSE_CLASS_LOADER) != 0) attributes.add("canReuseClassLoader");
+      if ((initBits & INIT_BIT_DOES_NOT_AFFECT_ABI) != 0) attributes.add("doesNotAffectAbi");
+      if ((initBits & INIT_BIT_SUPPORTS_ABI_GENERATION_FROM_SOURCE) != 0) attributes.add("supportsAbiGenerationFromSource");
+      return "Cannot build JavacPluginProperties, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,241 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractResourcesParameters}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ResourcesParameters.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractResourcesParameters"})
+@Immutable
+public final class ResourcesParameters extends AbstractResourcesParameters {
+  private final ImmutableSortedSet<SourcePath> resources;
+  private final @Nullable Path resourcesRoot;
+
+  private ResourcesParameters(ResourcesParameters.Builder builder) {
+    this.resourcesRoot = builder.resourcesRoot;
+    this.resources = builder.resources != null
+        ? builder.resources
+        : Objects.requireNonNull(super.getResources(), "resources");
+  }
+
+  private ResourcesParameters(
+      ImmutableSortedSet<SourcePath> resources,
+      @Nullable Path resourcesRoot) {
+    this.resources = resources;
+    this.resourcesRoot = resourcesRoot;
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getResources() {
+    return resources;
+  }
+
+  /**
+   * @return The value of the {@code resourcesRoot} attribute
+   */
+  @Override
+  public Optional<Path> getResourcesRoot() {
+    return Optional.ofNullable(resourcesRoot);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractResourcesParameters#getResources() resources} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for resources
+   * @return A modified copy of the {@code this} object
+   */
+  public final ResourcesParameters withResources(ImmutableSortedSet<SourcePath> value) {
+    if (this.resources == value) return this;
+    ImmutableSortedSet<SourcePath> newValue = Objects.requireNonNull(value, "resources");
+    return new ResourcesParameters(newValue, this.resourcesRoot);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractResourcesParameters#getResourcesRoot() resourcesRoot} attribute.
+   * @param value The value for resourcesRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final ResourcesParameters withResourcesRoot(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "resourcesRoot");
+    if (this.resourcesRoot == newValue) return this;
+    return new ResourcesParameters(this.resources, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractResourcesParameters#getResourcesRoot() resourcesRoot} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for resourcesRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final ResourcesParameters withResourcesRoot(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.resourcesRoot == value) return this;
+    return new ResourcesParameters(this.resources, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ResourcesParameters} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ResourcesParameters
+        && equalTo((ResourcesParameters) another);
+  }
+
+  private boolean equalTo(ResourcesParameters another) {
+    return resources.equals(another.resources)
+        && Objects.equals(resourcesRoot, another.resourcesRoot);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code resources}, {@code resourcesRoot}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + Objects.hashCode(resourcesRoot);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ResourcesParameters} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ResourcesParameters")
+        .omitNullValues()
+        .add("resources", resources)
+        .add("resourcesRoot", resourcesRoot)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractResourcesParameters} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ResourcesParameters instance
+   */
+  static ResourcesParameters copyOf(AbstractResourcesParameters instance) {
+    if (instance instanceof ResourcesParameters) {
+      return (ResourcesParameters) instance;
+    }
+    return ResourcesParameters.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ResourcesParameters ResourcesParameters}.
+   * @return A new ResourcesParameters builder
+   */
+  public static ResourcesParameters.Builder builder() {
+    return new ResourcesParameters.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ResourcesParameters ResourcesParameters}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable ImmutableSortedSet<SourcePath> resources;
+    private @Nullable Path resourcesRoot;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ResourcesParameters} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ResourcesParameters instance) {
+      return from((AbstractResourcesParameters) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractResourcesParameters} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractResourcesParameters instance) {
+      Objects.requireNonNull(instance, "instance");
+      setResources(instance.getResources());
+      Optional<Path> resourcesRootOptional = instance.getResourcesRoot();
+      if (resourcesRootOptional.isPresent()) {
+        setResourcesRoot(resourcesRootOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractResourcesParameters#getResources() resources} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractResourcesParameters#getResources() resources}.</em>
+     * @param resources The value for resources 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResources(ImmutableSortedSet<SourcePath> resources) {
+      this.resources = Objects.requireNonNull(resources, "resources");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractResourcesParameters#getResourcesRoot() resourcesRoot} to resourcesRoot.
+     * @param resourcesRoot The value for resourcesRoot
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setResourcesRoot(Path resourcesRoot) {
+      this.resourcesRoot = Objects.requireNonNull(resourcesRoot, "resourcesRoot");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractResourcesParameters#getResourcesRoot() resourcesRoot} to resourcesRoot.
+     * @param resourcesRoot The value for resourcesRoot
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResourcesRoot(Optional<? extends Path> resourcesRoot) {
+      this.resourcesRoot = resourcesRoot.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ResourcesParameters ResourcesParameters}.
+     * @return An immutable instance of ResourcesParameters
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ResourcesParameters build() {
+      return new ResourcesParameters(this);
+    }
+  }
+}
@@ -0,0 +1,401 @@
+package com.facebook.buck.jvm.java;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *A class from a jar on the classpath which was read by an incremental compilation. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractUsedClasspathClass"})
+@Immutable
+public final class UsedClasspathClass extends AbstractUsedClasspathClass {
+  private final String jar;
+  private final String path;
+  private final long crc;
+  private final String constantsHash;
+
+  private UsedClasspathClass(String jar, String path, long crc, String constantsHash) {
+    this.jar = Objects.requireNonNull(jar, "jar");
+    this.path = Objects.requireNonNull(path, "path");
+    this.crc = crc;
+    this.constantsHash = Objects.requireNonNull(constantsHash, "constantsHash");
+  }
+
+  private UsedClasspathClass(
+      UsedClasspathClass original,
+      String jar,
+      String path,
+      long crc,
+      String constantsHash) {
+    this.jar = jar;
+    this.path = path;
+    this.crc = crc;
+    this.constantsHash = constantsHash;
+  }
+
+  /**
+   *@return the absolute path of the jar. 
+   */
+  @JsonProperty
+  @Override
+  public String getJar() {
+    return jar;
+  }
+
+  /**
+   *@return the path of the class file in the jar. 
+   */
+  @JsonProperty
+  @Override
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   *@return the CRC32 of the class file, as recorded in the jar. 
+   */
+  @JsonProperty
+  @Override
+  public long getCrc() {
+    return crc;
+  }
+
+  /**
+   *@see ClassFileSummary#getConstantsHash() 
+   */
+  @JsonProperty
+  @Override
+  public String getConstantsHash() {
+    return constantsHash;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUsedClasspathClass#getJar() jar} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for jar
+   * @return A modified copy of the {@code this} object
+   */
+  public final UsedClasspathClass withJar(String value) {
+    if (this.jar.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "jar");
+    return new UsedClasspathClass(this, newValue, this.path, this.crc, this.constantsHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUsedClasspathClass#getPath() path} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final UsedClasspathClass withPath(String value) {
+    if (this.path.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "path");
+    return new UsedClasspathClass(this, this.jar, newValue, this.crc, this.constantsHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUsedClasspathClass#getCrc() crc} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for crc
+   * @return A modified copy of the {@code this} object
+   */
+  public final UsedClasspathClass withCrc(long value) {
+    if (this.crc == value) return this;
+    return new UsedClasspathClass(this, this.jar, this.path, value, this.constantsHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUsedClasspathClass#getConstantsHash() constantsHash} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for constantsHash
+   * @return A modified copy of the {@code this} object
+   */
+  public final UsedClasspathClass withConstantsHash(String value) {
+    if (this.constantsHash.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "constantsHash");
+    return new UsedClasspathClass(this, this.jar, this.path, this.crc, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code UsedClasspathClass} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof UsedClasspathClass
+        && equalTo((UsedClasspathClass) another);
+  }
+
+  private boolean equalTo(UsedClasspathClass another) {
+    return jar.equals(another.jar)
+        && path.equals(another.path)
+        && crc == another.crc
+        && constantsHash.equals(another.constantsHash);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code jar}, {@code path}, {@code crc}, {@code constantsHash}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + jar.hashCode();
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + Longs.hashCode(crc);
+    h += (h << 5) + constantsHash.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code UsedClasspathClass} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("UsedClasspathClass")
+        .omitNullValues()
+        .add("jar", jar)
+        .add("path", path)
+        .add("crc", crc)
+        .add("constantsHash", constantsHash)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractUsedClasspathClass {
+    @Nullable String jar;
+    @Nullable String path;
+    long crc;
+    boolean crcIsSet;
+    @Nullable String constantsHash;
+    @JsonProperty
+    public void setJar(String jar) {
+      this.jar = jar;
+    }
+    @JsonProperty
+    public void setPath(String path) {
+      this.path = path;
+    }
+    @JsonProperty
+    public void setCrc(long crc) {
+      this.crc = crc;
+      this.crcIsSet = true;
+    }
+    @JsonProperty
+    public void setConstantsHash(String constantsHash) {
+      this.constantsHash = constantsHash;
+    }
+    @Override
+    public String getJar() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getPath() { throw new UnsupportedOperationException(); }
+    @Override
+    public long getCrc() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getConstantsHash() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static UsedClasspathClass fromJson(Json json) {
+    UsedClasspathClass.Builder builder = UsedClasspathClass.builder();
+    if (json.jar != null) {
+      builder.setJar(json.jar);
+    }
+    if (json.path != null) {
+      builder.setPath(json.path);
+    }
+    if (json.crcIsSet) {
+      builder.setCrc(json.crc);
+    }
+    if (json.constantsHash != null) {
+      builder.setConstantsHash(json.constantsHash);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Construct a new immutable {@code UsedClasspathClass} instance.
+   * @param jar The value for the {@code jar} attribute
+   * @param path The value for the {@code path} attribute
+   * @param crc The value for the {@code crc} attribute
+   * @param constantsHash The value for the {@code constantsHash} attribute
+   * @return An immutable UsedClasspathClass instance
+   */
+  public static UsedClasspathClass of(String jar, String path, long crc, String constantsHash) {
+    return new UsedClasspathClass(jar, path, crc, constantsHash);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractUsedClasspathClass} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable UsedClasspathClass instance
+   */
+  static UsedClasspathClass copyOf(AbstractUsedClasspathClass instance) {
+    if (instance instanceof UsedClasspathClass) {
+      return (UsedClasspathClass) instance;
+    }
+    return UsedClasspathClass.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link UsedClasspathClass UsedClasspathClass}.
+   * @return A new UsedClasspathClass builder
+   */
+  public static UsedClasspathClass.Builder builder() {
+    return new UsedClasspathClass.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link UsedClasspathClass UsedClasspathClass}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_JAR = 0x1L;
+    private static final long INIT_BIT_PATH = 0x2L;
+    private static final long INIT_BIT_CRC = 0x4L;
+    private static final long INIT_BIT_CONSTANTS_HASH = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable String jar;
+    private @Nullable String path;
+    private long crc;
+    private @Nullable String constantsHash;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code UsedClasspathClass} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(UsedClasspathClass instance) {
+      return from((AbstractUsedClasspathClass) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractUsedClasspathClass} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractUsedClasspathClass instance) {
+      Objects.requireNonNull(instance, "instance");
+      setJar(instance.getJar());
+      setPath(instance.getPath());
+      setCrc(instance.getCrc());
+      setConstantsHash(instance.getConstantsHash());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractUsedClasspathClass#getJar() jar} attribute.
+     * @param jar The value for jar 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setJar(String jar) {
+      this.jar = Objects.requireNonNull(jar, "jar");
+      initBits &= ~INIT_BIT_JAR;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractUsedClasspathClass#getPath() path} attribute.
+     * @param path The value for path 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setPath(String path) {
+      this.path = Objects.requireNonNull(path, "path");
+      initBits &= ~INIT_BIT_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractUsedClasspathClass#getCrc() crc} attribute.
+     * @param crc The value for crc 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setCrc(long crc) {
+      this.crc = crc;
+      initBits &= ~INIT_BIT_CRC;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractUsedClasspathClass#getConstantsHash() constantsHash} attribute.
+     * @param constantsHash The value for constantsHash 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setConstantsHash(String constantsHash) {
+      this.constantsHash = Objects.requireNonNull(constantsHash, "constantsHash");
+      initBits &= ~INIT_BIT_CONSTANTS_HASH;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link UsedClasspathClass UsedClasspathClass}.
+     * @return An immutable instance of UsedClasspathClass
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public UsedClasspathClass build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new UsedClasspathClass(null, jar, path, crc, constantsHash);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_JAR) != 0) attributes.add("jar");
+      if ((initBits & INIT_BIT_PATH) != 0) attributes.add("path");
+      if ((initBits & INIT_BIT_CRC) != 0) attributes.add("crc");
+      if ((initBits & INIT_BIT_CONSTANTS_HASH) != 0) attributes.add("constantsHash");
+      return "Cannot build UsedClasspathClass, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package com.facebook.buck.jvm.kotlin;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractKotlincVersion}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code KotlincVersion.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code KotlincVersion.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractKotlincVersion"})
+@Immutable
+public final class KotlincVersion extends AbstractKotlincVersion {
+  private final String versionString;
+
+  private KotlincVersion(String versionString) {
+    this.versionString = Objects.requireNonNull(versionString, "versionString");
+  }
+
+  private KotlincVersion(KotlincVersion original, String versionString) {
+    this.versionString = versionString;
+  }
+
+  /**
+   * @return The value of the {@code versionString} attribute
+   */
+  @Override
+  public String getVersionString() {
+    return versionString;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractKotlincVersion#getVersionString() versionString} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for versionString
+   * @return A modified copy of the {@code this} object
+   */
+  public final KotlincVersion withVersionString(String value) {
+    if (this.versionString.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "versionString");
+    return new KotlincVersion(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code KotlincVersion} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof KotlincVersion
+        && equalTo((KotlincVersion) another);
+  }
+
+  private boolean equalTo(KotlincVersion another) {
+    return versionString.equals(another.versionString);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code versionString}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + versionString.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code KotlincVersion} instance.
+   * @param versionString The value for the {@code versionString} attribute
+   * @return An immutable KotlincVersion instance
+   */
+  public static KotlincVersion of(String versionString) {
+    return new KotlincVersion(versionString);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractKotlincVersion} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable KotlincVersion instance
+   */
+  static KotlincVersion copyOf(AbstractKotlincVersion instance) {
+    if (instance instanceof KotlincVersion) {
+      return (KotlincVersion) instance;
+    }
+    return KotlincVersion.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link KotlincVersion KotlincVersion}.
+   * @return A new KotlincVersion builder
+   */
+  public static KotlincVersion.Builder builder() {
+    return new KotlincVersion.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link KotlincVersion KotlincVersion}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_VERSION_STRING = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String versionString;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code KotlincVersion} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(KotlincVersion instance) {
+      return from((AbstractKotlincVersion) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractKotlincVersion} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractKotlincVersion instance) {
+      Objects.requireNonNull(instance, "instance");
+      setVersionString(instance.getVersionString());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractKotlincVersion#getVersionString() versionString} attribute.
+     * @param versionString The value for versionString 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionString(String versionString) {
+      this.versionString = Objects.requireNonNull(versionString, "versionString");
+      initBits &= ~INIT_BIT_VERSION_STRING;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link KotlincVersion KotlincVersion}.
+     * @return An immutable instance of KotlincVersion
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public KotlincVersion build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new KotlincVersion(null, versionString);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_VERSION_STRING) != 0) attributes.add("versionString");
+      return "Cannot build KotlincVersion, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,989 @@
+package com.facebook.buck.lua;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Flavor;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code LuaBinaryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "LuaBinaryDescription.AbstractLuaBinaryDescriptionArg"})
+@Immutable
+public final class LuaBinaryDescriptionArg
+    implements LuaBinaryDescription.AbstractLuaBinaryDescriptionArg {
+  private final String mainModule;
+  private final @Nullable BuildTarget nativeStarterLibrary;
+  private final @Nullable String pythonPlatform;
+  private final @Nullable Flavor platform;
+  private final @Nullable LuaPlatform.PackageStyle packageStyle;
+  private final PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private LuaBinaryDescriptionArg(LuaBinaryDescriptionArg.Builder builder) {
+    this.mainModule = builder.mainModule;
+    this.nativeStarterLibrary = builder.nativeStarterLibrary;
+    this.pythonPlatform = builder.pythonPlatform;
+    this.platform = builder.platform;
+    this.packageStyle = builder.packageStyle;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.platformDeps = builder.platformDeps != null
+        ? builder.platformDeps
+        : Objects.requireNonNull(LuaBinaryDescription.AbstractLuaBinaryDescriptionArg.super.getPlatformDeps(), "platformDeps");
+  }
+
+  private LuaBinaryDescriptionArg(
+      String mainModule,
+      @Nullable BuildTarget nativeStarterLibrary,
+      @Nullable String pythonPlatform,
+      @Nullable Flavor platform,
+      @Nullable LuaPlatform.PackageStyle packageStyle,
+      PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.mainModule = mainModule;
+    this.nativeStarterLibrary = nativeStarterLibrary;
+    this.pythonPlatform = pythonPlatform;
+    this.platform = platform;
+    this.packageStyle = packageStyle;
+    this.platformDeps = platformDeps;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+  }
+
+  /**
+   * @return The value of the {@code mainModule} attribute
+   */
+  @Override
+  public String getMainModule() {
+    return mainModule;
+  }
+
+  /**
+   * @return The value of the {@code nativeStarterLibrary} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getNativeStarterLibrary() {
+    return Optional.ofNullable(nativeStarterLibrary);
+  }
+
+  /**
+   * @return The value of the {@code pythonPlatform} attribute
+   */
+  @Override
+  public Optional<String> getPythonPlatform() {
+    return Optional.ofNullable(pythonPlatform);
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Optional<Flavor> getPlatform() {
+    return Optional.ofNullable(platform);
+  }
+
+  /**
+   * @return The value of the {@code packageStyle} attribute
+   */
+  @Override
+  public Optional<LuaPlatform.PackageStyle> getPackageStyle() {
+    return Optional.ofNullable(packageStyle);
+  }
+
+  /**
+   * @return The value of the {@code platformDeps} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+    return platformDeps;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getMainModule() mainModule} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for mainModule
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaBinaryDescriptionArg withMainModule(String value) {
+    if (this.mainModule.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "mainModule");
+    return new LuaBinaryDescriptionArg(
+        newValue,
+        this.nativeStarterLibrary,
+        this.pythonPlatform,
+        this.platform,
+        this.packageStyle,
+        this.platformDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getNativeStarterLibrary() nativeStarterLibrary} attribute.
+   * @param value The value for nativeStarterLibrary
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaBinaryDescriptionArg withNativeStarterLibrary(BuildTarget value) {
+    @Nullable BuildTarget newValue = Objects.requireNonNull(value, "nativeStarterLibrary");
+    if (this.nativeStarterLibrary == newValue) return this;
+    return new LuaBinaryDescriptionArg(
+        this.mainModule,
+        newValue,
+        this.pythonPlatform,
+        this.platform,
+        this.packageStyle,
+        this.platformDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getNativeStarterLibrary() nativeStarterLibrary} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for nativeStarterLibrary
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaBinaryDescriptionArg withNativeStarterLibrary(Optional<? extends BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.nativeStarterLibrary == value) return this;
+    return new LuaBinaryDescriptionArg(
+        this.mainModule,
+        value,
+        this.pythonPlatform,
+        this.platform,
+        this.packageStyle,
+        this.platformDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getPythonPlatform() pythonPlatform} attribute.
+   * @param value The value for pythonPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaBinaryDescriptionArg withPythonPlatform(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "pythonPlatform");
+    if (Objects.equals(this.pythonPlatform, newValue)) return this;
+    return new LuaBinaryDescriptionArg(
+        this.mainModule,
+        this.nativeStarterLibrary,
+        newValue,
+        this.platform,
+        this.packageStyle,
+        this.platformDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getPythonPlatform() pythonPlatform} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for pythonPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaBinaryDescriptionArg withPythonPlatform(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.pythonPlatform, value)) return this;
+    return new LuaBinaryDescriptionArg(
+        this.mainModule,
+        this.nativeStarterLibrary,
+        value,
+        this.platform,
+        this.packageStyle,
+        this.platformDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getPlatform() platform} attribute.
+   * @param value The value for platform
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaBinaryDescriptionArg withPlatform(Flavor value) {
+    @Nullable Flavor newValue = Objects.requireNonNull(value, "platform");
+    if (this.platform == newValue) return this;
+    return new LuaBinaryDescriptionArg(
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.pythonPlatform,
+        newValue,
+        this.packageStyle,
+        this.platformDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getPlatform() platform} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for platform
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaBinaryDescriptionArg withPlatform(Optional<? extends Flavor> optional) {
+    @Nullable Flavor value = optional.orElse(null);
+    if (this.platform == value) return this;
+    return new LuaBinaryDescriptionArg(
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.pythonPlatform,
+        value,
+        this.packageStyle,
+        this.platformDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getPackageStyle() packageStyle} attribute.
+   * @param value The value for packageStyle
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaBinaryDescriptionArg withPackageStyle(LuaPlatform.PackageStyle value) {
+    @Nullable LuaPlatform.PackageStyle newValue = Objects.requireNonNull(value, "packageStyle");
+    if (this.packageStyle == newValue) return this;
+    return new LuaBinaryDescriptionArg(
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.pythonPlatform,
+        this.platform,
+        newValue,
+        this.platformDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getPackageStyle() packageStyle} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for packageStyle
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaBinaryDescriptionArg withPackageStyle(Optional<? extends LuaPlatform.PackageStyle> optional) {
+    @Nullable LuaPlatform.PackageStyle value = optional.orElse(null);
+    if (this.packageStyle == value) return this;
+    return new LuaBinaryDescriptionArg(
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.pythonPlatform,
+        this.platform,
+        value,
+        this.platformDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getPlatformDeps() platformDeps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformDeps
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaBinaryDescriptionArg withPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> value) {
+    if (this.platformDeps == value) return this;
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> newValue = Objects.requireNonNull(value, "platformDeps");
+    return new LuaBinaryDescriptionArg(
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.pythonPlatform,
+        this.platform,
+        this.packageStyle,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaBinaryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new LuaBinaryDescriptionArg(
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.pythonPlatform,
+        this.platform,
+        this.packageStyle,
+        this.platformDeps,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaBinaryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new LuaBinaryDescriptionArg(
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.pythonPlatform,
+        this.platform,
+        this.packageStyle,
+        this.platformDeps,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaBinaryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new LuaBinaryDescriptionArg(
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.pythonPlatform,
+        this.platform,
+        this.packageStyle,
+        this.platformDeps,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaBinaryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new LuaBinaryDescriptionArg(
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.pythonPlatform,
+        this.platform,
+        this.packageStyle,
+        this.platformDeps,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaBinaryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new LuaBinaryDescriptionArg(
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.pythonPlatform,
+        this.platform,
+        this.packageStyle,
+        this.platformDeps,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaBinaryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new LuaBinaryDescriptionArg(
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.pythonPlatform,
+        this.platform,
+        this.packageStyle,
+        this.platformDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaBinaryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new LuaBinaryDescriptionArg(
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.pythonPlatform,
+        this.platform,
+        this.packageStyle,
+        this.platformDeps,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code LuaBinaryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof LuaBinaryDescriptionArg
+        && equalTo((LuaBinaryDescriptionArg) another);
+  }
+
+  private boolean equalTo(LuaBinaryDescriptionArg another) {
+    return mainModule.equals(another.mainModule)
+        && Objects.equals(nativeStarterLibrary, another.nativeStarterLibrary)
+        && Objects.equals(pythonPlatform, another.pythonPlatform)
+        && Objects.equals(platform, another.platform)
+        && Objects.equals(packageStyle, another.packageStyle)
+        && platformDeps.equals(another.platformDeps)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code mainModule}, {@code nativeStarterLibrary}, {@code pythonPlatform}, {@code platform}, {@code packageStyle}, {@code platformDeps}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + mainModule.hashCode();
+    h += (h << 5) + Objects.hashCode(nativeStarterLibrary);
+    h += (h << 5) + Objects.hashCode(pythonPlatform);
+    h += (h << 5) + Objects.hashCode(platform);
+    h += (h << 5) + Objects.hashCode(packageStyle);
+    h += (h << 5) + platformDeps.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LuaBinaryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LuaBinaryDescriptionArg")
+        .omitNullValues()
+        .add("mainModule", mainModule)
+        .add("nativeStarterLibrary", nativeStarterLibrary)
+        .add("pythonPlatform", pythonPlatform)
+        .add("platform", platform)
+        .add("packageStyle", packageStyle)
+        .add("platformDeps", platformDeps)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable LuaBinaryDescriptionArg instance
+   */
+  static LuaBinaryDescriptionArg copyOf(LuaBinaryDescription.AbstractLuaBinaryDescriptionArg instance) {
+    if (instance instanceof LuaBinaryDescriptionArg) {
+      return (LuaBinaryDescriptionArg) instance;
+    }
+    return LuaBinaryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link LuaBinaryDescriptionArg LuaBinaryDescriptionArg}.
+   * @return A new LuaBinaryDescriptionArg builder
+   */
+  public static LuaBinaryDescriptionArg.Builder builder() {
+    return new LuaBinaryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link LuaBinaryDescriptionArg LuaBinaryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_MAIN_MODULE = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String mainModule;
+    private @Nullable BuildTarget nativeStarterLibrary;
+    private @Nullable String pythonPlatform;
+    private @Nullable Flavor platform;
+    private @Nullable LuaPlatform.PackageStyle packageStyle;
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code LuaBinaryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(LuaBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractLuaBinaryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(LuaBinaryDescription.AbstractLuaBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof LuaBinaryDescription.AbstractLuaBinaryDescriptionArg) {
+        LuaBinaryDescription.AbstractLuaBinaryDescriptionArg instance = (LuaBinaryDescription.AbstractLuaBinaryDescriptionArg) object;
+        setMainModule(instance.getMainModule());
+        setPlatformDeps(instance.getPlatformDeps());
+        Optional<BuildTarget> nativeStarterLibraryOptional = instance.getNativeStarterLibrary();
+        if (nativeStarterLibraryOptional.isPresent()) {
+          setNativeStarterLibrary(nativeStarterLibraryOptional);
+        }
+        Optional<String> pythonPlatformOptional = instance.getPythonPlatform();
+        if (pythonPlatformOptional.isPresent()) {
+          setPythonPlatform(pythonPlatformOptional);
+        }
+        Optional<LuaPlatform.PackageStyle> packageStyleOptional = instance.getPackageStyle();
+        if (packageStyleOptional.isPresent()) {
+          setPackageStyle(packageStyleOptional);
+        }
+        Optional<Flavor> platformOptional = instance.getPlatform();
+        if (platformOptional.isPresent()) {
+          setPlatform(platformOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getMainModule() mainModule} attribute.
+     * @param mainModule The value for mainModule 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMainModule(String mainModule) {
+      this.mainModule = Objects.requireNonNull(mainModule, "mainModule");
+      initBits &= ~INIT_BIT_MAIN_MODULE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getNativeStarterLibrary() nativeStarterLibrary} to nativeStarterLibrary.
+     * @param nativeStarterLibrary The value for nativeStarterLibrary
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNativeStarterLibrary(BuildTarget nativeStarterLibrary) {
+      this.nativeStarterLibrary = Objects.requireNonNull(nativeStarterLibrary, "nativeStarterLibrary");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getNativeStarterLibrary() nativeStarterLibrary} to nativeStarterLibrary.
+     * @param nativeStarterLibrary The value for nativeStarterLibrary
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeStarterLibrary(Optional<? extends BuildTarget> nativeStarterLibrary) {
+      this.nativeStarterLibrary = nativeStarterLibrary.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getPythonPlatform() pythonPlatform} to pythonPlatform.
+     * @param pythonPlatform The value for pythonPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPythonPlatform(String pythonPlatform) {
+      this.pythonPlatform = Objects.requireNonNull(pythonPlatform, "pythonPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getPythonPlatform() pythonPlatform} to pythonPlatform.
+     * @param pythonPlatform The value for pythonPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPythonPlatform(Optional<String> pythonPlatform) {
+      this.pythonPlatform = pythonPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getPlatform() platform} to platform.
+     * @param platform The value for platform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPlatform(Flavor platform) {
+      this.platform = Objects.requireNonNull(platform, "platform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getPlatform() platform} to platform.
+     * @param platform The value for platform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatform(Optional<? extends Flavor> platform) {
+      this.platform = platform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getPackageStyle() packageStyle} to packageStyle.
+     * @param packageStyle The value for packageStyle
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackageStyle(LuaPlatform.PackageStyle packageStyle) {
+      this.packageStyle = Objects.requireNonNull(packageStyle, "packageStyle");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getPackageStyle() packageStyle} to packageStyle.
+     * @param packageStyle The value for packageStyle
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackageStyle(Optional<? extends LuaPlatform.PackageStyle> packageStyle) {
+      this.packageStyle = packageStyle.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getPlatformDeps() platformDeps} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getPlatformDeps() platformDeps}.</em>
+     * @param platformDeps The value for platformDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = Objects.requireNonNull(platformDeps, "platformDeps");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link LuaBinaryDescription.AbstractLuaBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link LuaBinaryDescriptionArg LuaBinaryDescriptionArg}.
+     * @return An immutable instance of LuaBinaryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public LuaBinaryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new LuaBinaryDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_MAIN_MODULE) != 0) attributes.add("mainModule");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build LuaBinaryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package com.facebook.buck.lua;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *The package components in a Lua binary. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractLuaBinaryPackageComponents"})
+@Immutable
+public final class LuaBinaryPackageComponents extends AbstractLuaBinaryPackageComponents {
+  private final SourcePath starter;
+  private final LuaPackageComponents components;
+
+  private LuaBinaryPackageComponents(SourcePath starter, LuaPackageComponents components) {
+    this.starter = Objects.requireNonNull(starter, "starter");
+    this.components = Objects.requireNonNull(components, "components");
+  }
+
+  private LuaBinaryPackageComponents(
+      LuaBinaryPackageComponents original,
+      SourcePath starter,
+      LuaPackageComponents components) {
+    this.starter = starter;
+    this.components = components;
+  }
+
+  /**
+   * @return The value of the {@code starter} attribute
+   */
+  @Override
+  public SourcePath getStarter() {
+    return starter;
+  }
+
+  /**
+   * @return The value of the {@code components} attribute
+   */
+  @Override
+  public LuaPackageComponents getComponents() {
+    return components;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaBinaryPackageComponents#getStarter() starter} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for starter
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaBinaryPackageComponents withStarter(SourcePath value) {
+    if (this.starter == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "starter");
+    return new LuaBinaryPackageComponents(this, newValue, this.components);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaBinaryPackageComponents#getComponents() components} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for components
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaBinaryPackageComponents withComponents(LuaPackageComponents value) {
+    if (this.components == value) return this;
+    LuaPackageComponents newValue = Objects.requireNonNull(value, "components");
+    return new LuaBinaryPackageComponents(this, this.starter, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code LuaBinaryPackageComponents} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof LuaBinaryPackageComponents
+        && equalTo((LuaBinaryPackageComponents) another);
+  }
+
+  private boolean equalTo(LuaBinaryPackageComponents another) {
+    return starter.equals(another.starter)
+        && components.equals(another.components);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code starter}, {@code components}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + starter.hashCode();
+    h += (h << 5) + components.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LuaBinaryPackageComponents} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LuaBinaryPackageComponents")
+        .omitNullValues()
+        .add("starter", starter)
+        .add("components", components)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LuaBinaryPackageComponents} instance.
+   * @param starter The value for the {@code starter} attribute
+   * @param components The value for the {@code components} attribute
+   * @return An immutable LuaBinaryPackageComponents instance
+   */
+  public static LuaBinaryPackageComponents of(SourcePath starter, LuaPackageComponents components) {
+    return new LuaBinaryPackageComponents(starter, components);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractLuaBinaryPackageComponents} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable LuaBinaryPackageComponents instance
+   */
+  static LuaBinaryPackageComponents copyOf(AbstractLuaBinaryPackageComponents instance) {
+    if (instance instanceof LuaBinaryPackageComponents) {
+      return (LuaBinaryPackageComponents) instance;
+    }
+    return LuaBinaryPackageComponents.of(instance.getStarter(), instance.getComponents());
+  }
+}
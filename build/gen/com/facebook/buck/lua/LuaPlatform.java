@@ -0,0 +1,765 @@
+package com.facebook.buck.lua;
+
+import com.facebook.buck.cxx.toolchain.CxxPlatform;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkStrategy;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.ToolProvider;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractLuaPlatform}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code LuaPlatform.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractLuaPlatform"})
+@Immutable
+public final class LuaPlatform extends AbstractLuaPlatform {
+  private final ToolProvider lua;
+  private final @Nullable BuildTarget nativeStarterLibrary;
+  private final @Nullable BuildTarget luaCxxLibraryTarget;
+  private final @Nullable LuaBinaryDescription.StarterType starterType;
+  private final String extension;
+  private final AbstractLuaPlatform.PackageStyle packageStyle;
+  private final ToolProvider packager;
+  private final boolean shouldCacheBinaries;
+  private final NativeLinkStrategy nativeLinkStrategy;
+  private final CxxPlatform cxxPlatform;
+
+  private LuaPlatform(
+      ToolProvider lua,
+      @Nullable BuildTarget nativeStarterLibrary,
+      @Nullable BuildTarget luaCxxLibraryTarget,
+      @Nullable LuaBinaryDescription.StarterType starterType,
+      String extension,
+      AbstractLuaPlatform.PackageStyle packageStyle,
+      ToolProvider packager,
+      boolean shouldCacheBinaries,
+      NativeLinkStrategy nativeLinkStrategy,
+      CxxPlatform cxxPlatform) {
+    this.lua = lua;
+    this.nativeStarterLibrary = nativeStarterLibrary;
+    this.luaCxxLibraryTarget = luaCxxLibraryTarget;
+    this.starterType = starterType;
+    this.extension = extension;
+    this.packageStyle = packageStyle;
+    this.packager = packager;
+    this.shouldCacheBinaries = shouldCacheBinaries;
+    this.nativeLinkStrategy = nativeLinkStrategy;
+    this.cxxPlatform = cxxPlatform;
+  }
+
+  /**
+   * @return The value of the {@code lua} attribute
+   */
+  @Override
+  public ToolProvider getLua() {
+    return lua;
+  }
+
+  /**
+   * @return The value of the {@code nativeStarterLibrary} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getNativeStarterLibrary() {
+    return Optional.ofNullable(nativeStarterLibrary);
+  }
+
+  /**
+   * @return The value of the {@code luaCxxLibraryTarget} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getLuaCxxLibraryTarget() {
+    return Optional.ofNullable(luaCxxLibraryTarget);
+  }
+
+  /**
+   * @return The value of the {@code starterType} attribute
+   */
+  @Override
+  public Optional<LuaBinaryDescription.StarterType> getStarterType() {
+    return Optional.ofNullable(starterType);
+  }
+
+  /**
+   * @return The value of the {@code extension} attribute
+   */
+  @Override
+  public String getExtension() {
+    return extension;
+  }
+
+  /**
+   *@return the {@link PackageStyle} to use for Lua executables. 
+   */
+  @Override
+  public AbstractLuaPlatform.PackageStyle getPackageStyle() {
+    return packageStyle;
+  }
+
+  /**
+   *@return the {@link ToolProvider} which packages standalone Lua executables. 
+   */
+  @Override
+  public ToolProvider getPackager() {
+    return packager;
+  }
+
+  /**
+   *@return whether to cache Lua executable packages. 
+   */
+  @Override
+  public boolean shouldCacheBinaries() {
+    return shouldCacheBinaries;
+  }
+
+  /**
+   *@return the native link strategy to use for binaries. 
+   */
+  @Override
+  public NativeLinkStrategy getNativeLinkStrategy() {
+    return nativeLinkStrategy;
+  }
+
+  /**
+   * @return The value of the {@code cxxPlatform} attribute
+   */
+  @Override
+  public CxxPlatform getCxxPlatform() {
+    return cxxPlatform;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaPlatform#getLua() lua} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for lua
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaPlatform withLua(ToolProvider value) {
+    if (this.lua == value) return this;
+    ToolProvider newValue = Objects.requireNonNull(value, "lua");
+    return new LuaPlatform(
+        newValue,
+        this.nativeStarterLibrary,
+        this.luaCxxLibraryTarget,
+        this.starterType,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractLuaPlatform#getNativeStarterLibrary() nativeStarterLibrary} attribute.
+   * @param value The value for nativeStarterLibrary
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaPlatform withNativeStarterLibrary(BuildTarget value) {
+    @Nullable BuildTarget newValue = Objects.requireNonNull(value, "nativeStarterLibrary");
+    if (this.nativeStarterLibrary == newValue) return this;
+    return new LuaPlatform(
+        this.lua,
+        newValue,
+        this.luaCxxLibraryTarget,
+        this.starterType,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractLuaPlatform#getNativeStarterLibrary() nativeStarterLibrary} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for nativeStarterLibrary
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaPlatform withNativeStarterLibrary(Optional<? extends BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.nativeStarterLibrary == value) return this;
+    return new LuaPlatform(
+        this.lua,
+        value,
+        this.luaCxxLibraryTarget,
+        this.starterType,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractLuaPlatform#getLuaCxxLibraryTarget() luaCxxLibraryTarget} attribute.
+   * @param value The value for luaCxxLibraryTarget
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaPlatform withLuaCxxLibraryTarget(BuildTarget value) {
+    @Nullable BuildTarget newValue = Objects.requireNonNull(value, "luaCxxLibraryTarget");
+    if (this.luaCxxLibraryTarget == newValue) return this;
+    return new LuaPlatform(
+        this.lua,
+        this.nativeStarterLibrary,
+        newValue,
+        this.starterType,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractLuaPlatform#getLuaCxxLibraryTarget() luaCxxLibraryTarget} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for luaCxxLibraryTarget
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaPlatform withLuaCxxLibraryTarget(Optional<? extends BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.luaCxxLibraryTarget == value) return this;
+    return new LuaPlatform(
+        this.lua,
+        this.nativeStarterLibrary,
+        value,
+        this.starterType,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractLuaPlatform#getStarterType() starterType} attribute.
+   * @param value The value for starterType
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaPlatform withStarterType(LuaBinaryDescription.StarterType value) {
+    @Nullable LuaBinaryDescription.StarterType newValue = Objects.requireNonNull(value, "starterType");
+    if (this.starterType == newValue) return this;
+    return new LuaPlatform(
+        this.lua,
+        this.nativeStarterLibrary,
+        this.luaCxxLibraryTarget,
+        newValue,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractLuaPlatform#getStarterType() starterType} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for starterType
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaPlatform withStarterType(Optional<? extends LuaBinaryDescription.StarterType> optional) {
+    @Nullable LuaBinaryDescription.StarterType value = optional.orElse(null);
+    if (Objects.equals(this.starterType, value)) return this;
+    return new LuaPlatform(
+        this.lua,
+        this.nativeStarterLibrary,
+        this.luaCxxLibraryTarget,
+        value,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaPlatform#getExtension() extension} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for extension
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaPlatform withExtension(String value) {
+    if (this.extension.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "extension");
+    return new LuaPlatform(
+        this.lua,
+        this.nativeStarterLibrary,
+        this.luaCxxLibraryTarget,
+        this.starterType,
+        newValue,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaPlatform#getPackageStyle() packageStyle} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for packageStyle
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaPlatform withPackageStyle(AbstractLuaPlatform.PackageStyle value) {
+    if (this.packageStyle == value) return this;
+    AbstractLuaPlatform.PackageStyle newValue = Objects.requireNonNull(value, "packageStyle");
+    return new LuaPlatform(
+        this.lua,
+        this.nativeStarterLibrary,
+        this.luaCxxLibraryTarget,
+        this.starterType,
+        this.extension,
+        newValue,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaPlatform#getPackager() packager} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for packager
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaPlatform withPackager(ToolProvider value) {
+    if (this.packager == value) return this;
+    ToolProvider newValue = Objects.requireNonNull(value, "packager");
+    return new LuaPlatform(
+        this.lua,
+        this.nativeStarterLibrary,
+        this.luaCxxLibraryTarget,
+        this.starterType,
+        this.extension,
+        this.packageStyle,
+        newValue,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaPlatform#shouldCacheBinaries() shouldCacheBinaries} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for shouldCacheBinaries
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaPlatform withShouldCacheBinaries(boolean value) {
+    if (this.shouldCacheBinaries == value) return this;
+    return new LuaPlatform(
+        this.lua,
+        this.nativeStarterLibrary,
+        this.luaCxxLibraryTarget,
+        this.starterType,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        value,
+        this.nativeLinkStrategy,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaPlatform#getNativeLinkStrategy() nativeLinkStrategy} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for nativeLinkStrategy
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaPlatform withNativeLinkStrategy(NativeLinkStrategy value) {
+    if (this.nativeLinkStrategy == value) return this;
+    NativeLinkStrategy newValue = Objects.requireNonNull(value, "nativeLinkStrategy");
+    return new LuaPlatform(
+        this.lua,
+        this.nativeStarterLibrary,
+        this.luaCxxLibraryTarget,
+        this.starterType,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        newValue,
+        this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaPlatform#getCxxPlatform() cxxPlatform} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cxxPlatform
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaPlatform withCxxPlatform(CxxPlatform value) {
+    if (this.cxxPlatform == value) return this;
+    CxxPlatform newValue = Objects.requireNonNull(value, "cxxPlatform");
+    return new LuaPlatform(
+        this.lua,
+        this.nativeStarterLibrary,
+        this.luaCxxLibraryTarget,
+        this.starterType,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code LuaPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof LuaPlatform
+        && equalTo((LuaPlatform) another);
+  }
+
+  private boolean equalTo(LuaPlatform another) {
+    return lua.equals(another.lua)
+        && Objects.equals(nativeStarterLibrary, another.nativeStarterLibrary)
+        && Objects.equals(luaCxxLibraryTarget, another.luaCxxLibraryTarget)
+        && Objects.equals(starterType, another.starterType)
+        && extension.equals(another.extension)
+        && packageStyle.equals(another.packageStyle)
+        && packager.equals(another.packager)
+        && shouldCacheBinaries == another.shouldCacheBinaries
+        && nativeLinkStrategy.equals(another.nativeLinkStrategy)
+        && cxxPlatform.equals(another.cxxPlatform);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code lua}, {@code nativeStarterLibrary}, {@code luaCxxLibraryTarget}, {@code starterType}, {@code extension}, {@code packageStyle}, {@code packager}, {@code shouldCacheBinaries}, {@code nativeLinkStrategy}, {@code cxxPlatform}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + lua.hashCode();
+    h += (h << 5) + Objects.hashCode(nativeStarterLibrary);
+    h += (h << 5) + Objects.hashCode(luaCxxLibraryTarget);
+    h += (h << 5) + Objects.hashCode(starterType);
+    h += (h << 5) + extension.hashCode();
+    h += (h << 5) + packageStyle.hashCode();
+    h += (h << 5) + packager.hashCode();
+    h += (h << 5) + Booleans.hashCode(shouldCacheBinaries);
+    h += (h << 5) + nativeLinkStrategy.hashCode();
+    h += (h << 5) + cxxPlatform.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LuaPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LuaPlatform")
+        .omitNullValues()
+        .add("lua", lua)
+        .add("nativeStarterLibrary", nativeStarterLibrary)
+        .add("luaCxxLibraryTarget", luaCxxLibraryTarget)
+        .add("starterType", starterType)
+        .add("extension", extension)
+        .add("packageStyle", packageStyle)
+        .add("packager", packager)
+        .add("shouldCacheBinaries", shouldCacheBinaries)
+        .add("nativeLinkStrategy", nativeLinkStrategy)
+        .add("cxxPlatform", cxxPlatform)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractLuaPlatform} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable LuaPlatform instance
+   */
+  static LuaPlatform copyOf(AbstractLuaPlatform instance) {
+    if (instance instanceof LuaPlatform) {
+      return (LuaPlatform) instance;
+    }
+    return LuaPlatform.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link LuaPlatform LuaPlatform}.
+   * @return A new LuaPlatform builder
+   */
+  public static LuaPlatform.Builder builder() {
+    return new LuaPlatform.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link LuaPlatform LuaPlatform}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_LUA = 0x1L;
+    private static final long INIT_BIT_EXTENSION = 0x2L;
+    private static final long INIT_BIT_PACKAGE_STYLE = 0x4L;
+    private static final long INIT_BIT_PACKAGER = 0x8L;
+    private static final long INIT_BIT_SHOULD_CACHE_BINARIES = 0x10L;
+    private static final long INIT_BIT_NATIVE_LINK_STRATEGY = 0x20L;
+    private static final long INIT_BIT_CXX_PLATFORM = 0x40L;
+    private long initBits = 0x7fL;
+
+    private @Nullable ToolProvider lua;
+    private @Nullable BuildTarget nativeStarterLibrary;
+    private @Nullable BuildTarget luaCxxLibraryTarget;
+    private @Nullable LuaBinaryDescription.StarterType starterType;
+    private @Nullable String extension;
+    private @Nullable AbstractLuaPlatform.PackageStyle packageStyle;
+    private @Nullable ToolProvider packager;
+    private boolean shouldCacheBinaries;
+    private @Nullable NativeLinkStrategy nativeLinkStrategy;
+    private @Nullable CxxPlatform cxxPlatform;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code LuaPlatform} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(LuaPlatform instance) {
+      return from((AbstractLuaPlatform) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractLuaPlatform} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractLuaPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      setLua(instance.getLua());
+      Optional<BuildTarget> nativeStarterLibraryOptional = instance.getNativeStarterLibrary();
+      if (nativeStarterLibraryOptional.isPresent()) {
+        setNativeStarterLibrary(nativeStarterLibraryOptional);
+      }
+      Optional<BuildTarget> luaCxxLibraryTargetOptional = instance.getLuaCxxLibraryTarget();
+      if (luaCxxLibraryTargetOptional.isPresent()) {
+        setLuaCxxLibraryTarget(luaCxxLibraryTargetOptional);
+      }
+      Optional<LuaBinaryDescription.StarterType> starterTypeOptional = instance.getStarterType();
+      if (starterTypeOptional.isPresent()) {
+        setStarterType(starterTypeOptional);
+      }
+      setExtension(instance.getExtension());
+      setPackageStyle(instance.getPackageStyle());
+      setPackager(instance.getPackager());
+      setShouldCacheBinaries(instance.shouldCacheBinaries());
+      setNativeLinkStrategy(instance.getNativeLinkStrategy());
+      setCxxPlatform(instance.getCxxPlatform());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractLuaPlatform#getLua() lua} attribute.
+     * @param lua The value for lua 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLua(ToolProvider lua) {
+      this.lua = Objects.requireNonNull(lua, "lua");
+      initBits &= ~INIT_BIT_LUA;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractLuaPlatform#getNativeStarterLibrary() nativeStarterLibrary} to nativeStarterLibrary.
+     * @param nativeStarterLibrary The value for nativeStarterLibrary
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNativeStarterLibrary(BuildTarget nativeStarterLibrary) {
+      this.nativeStarterLibrary = Objects.requireNonNull(nativeStarterLibrary, "nativeStarterLibrary");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractLuaPlatform#getNativeStarterLibrary() nativeStarterLibrary} to nativeStarterLibrary.
+     * @param nativeStarterLibrary The value for nativeStarterLibrary
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeStarterLibrary(Optional<? extends BuildTarget> nativeStarterLibrary) {
+      this.nativeStarterLibrary = nativeStarterLibrary.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractLuaPlatform#getLuaCxxLibraryTarget() luaCxxLibraryTarget} to luaCxxLibraryTarget.
+     * @param luaCxxLibraryTarget The value for luaCxxLibraryTarget
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLuaCxxLibraryTarget(BuildTarget luaCxxLibraryTarget) {
+      this.luaCxxLibraryTarget = Objects.requireNonNull(luaCxxLibraryTarget, "luaCxxLibraryTarget");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractLuaPlatform#getLuaCxxLibraryTarget() luaCxxLibraryTarget} to luaCxxLibraryTarget.
+     * @param luaCxxLibraryTarget The value for luaCxxLibraryTarget
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLuaCxxLibraryTarget(Optional<? extends BuildTarget> luaCxxLibraryTarget) {
+      this.luaCxxLibraryTarget = luaCxxLibraryTarget.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractLuaPlatform#getStarterType() starterType} to starterType.
+     * @param starterType The value for starterType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStarterType(LuaBinaryDescription.StarterType starterType) {
+      this.starterType = Objects.requireNonNull(starterType, "starterType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractLuaPlatform#getStarterType() starterType} to starterType.
+     * @param starterType The value for starterType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStarterType(Optional<? extends LuaBinaryDescription.StarterType> starterType) {
+      this.starterType = starterType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractLuaPlatform#getExtension() extension} attribute.
+     * @param extension The value for extension 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtension(String extension) {
+      this.extension = Objects.requireNonNull(extension, "extension");
+      initBits &= ~INIT_BIT_EXTENSION;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractLuaPlatform#getPackageStyle() packageStyle} attribute.
+     * @param packageStyle The value for packageStyle 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackageStyle(AbstractLuaPlatform.PackageStyle packageStyle) {
+      this.packageStyle = Objects.requireNonNull(packageStyle, "packageStyle");
+      initBits &= ~INIT_BIT_PACKAGE_STYLE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractLuaPlatform#getPackager() packager} attribute.
+     * @param packager The value for packager 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackager(ToolProvider packager) {
+      this.packager = Objects.requireNonNull(packager, "packager");
+      initBits &= ~INIT_BIT_PACKAGER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractLuaPlatform#shouldCacheBinaries() shouldCacheBinaries} attribute.
+     * @param shouldCacheBinaries The value for shouldCacheBinaries 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setShouldCacheBinaries(boolean shouldCacheBinaries) {
+      this.shouldCacheBinaries = shouldCacheBinaries;
+      initBits &= ~INIT_BIT_SHOULD_CACHE_BINARIES;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractLuaPlatform#getNativeLinkStrategy() nativeLinkStrategy} attribute.
+     * @param nativeLinkStrategy The value for nativeLinkStrategy 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeLinkStrategy(NativeLinkStrategy nativeLinkStrategy) {
+      this.nativeLinkStrategy = Objects.requireNonNull(nativeLinkStrategy, "nativeLinkStrategy");
+      initBits &= ~INIT_BIT_NATIVE_LINK_STRATEGY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractLuaPlatform#getCxxPlatform() cxxPlatform} attribute.
+     * @param cxxPlatform The value for cxxPlatform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxPlatform(CxxPlatform cxxPlatform) {
+      this.cxxPlatform = Objects.requireNonNull(cxxPlatform, "cxxPlatform");
+      initBits &= ~INIT_BIT_CXX_PLATFORM;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link LuaPlatform LuaPlatform}.
+     * @return An immutable instance of LuaPlatform
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public LuaPlatform build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new LuaPlatform(
+          lua,
+          nativeStarterLibrary,
+          luaCxxLibraryTarget,
+          starterType,
+          extension,
+          packageStyle,
+          packager,
+          shouldCacheBinaries,
+          nativeLinkStrategy,
+          cxxPlatform);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_LUA) != 0) attributes.add("lua");
+      if ((initBits & INIT_BIT_EXTENSION) != 0) attributes.add("extension");
+      if ((initBits & INIT_BIT_PACKAGE_STYLE) != 0) attributes.add("packageStyle");
+      if ((initBits & INIT_BIT_PACKAGER) != 0) attributes.add("packager");
+      if ((initBits & INIT_BIT_SHOULD_CACHE_BINARIES) != 0) attributes.add("shouldCacheBinaries");
+      if ((initBits & INIT_BIT_NATIVE_LINK_STRATEGY) != 0) attributes.add("nativeLinkStrategy");
+      if ((initBits & INIT_BIT_CXX_PLATFORM) != 0) attributes.add("cxxPlatform");
+      return "Cannot build LuaPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,874 @@
+package com.facebook.buck.lua;
+
+import com.facebook.buck.cxx.toolchain.CxxBuckConfig;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.BuildRuleParams;
+import com.facebook.buck.rules.BuildRuleResolver;
+import com.facebook.buck.rules.SourcePathResolver;
+import com.facebook.buck.rules.SourcePathRuleFinder;
+import com.google.common.base.MoreObjects;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *{@link Starter} implementation which builds a starter as a native executable. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNativeExecutableStarter"})
+@Immutable
+public final class NativeExecutableStarter extends AbstractNativeExecutableStarter {
+  private final ProjectFilesystem projectFilesystem;
+  private final BuildTarget baseTarget;
+  private final BuildRuleParams baseParams;
+  private final BuildRuleResolver ruleResolver;
+  private final SourcePathResolver pathResolver;
+  private final SourcePathRuleFinder ruleFinder;
+  private final LuaPlatform luaPlatform;
+  private final CxxBuckConfig cxxBuckConfig;
+  private final BuildTarget target;
+  private final Path output;
+  private final String mainModule;
+  private final @Nullable BuildTarget nativeStarterLibrary;
+  private final @Nullable Path relativeModulesDir;
+  private final @Nullable Path relativePythonModulesDir;
+  private final @Nullable Path relativeNativeLibsDir;
+
+  private NativeExecutableStarter(
+      ProjectFilesystem projectFilesystem,
+      BuildTarget baseTarget,
+      BuildRuleParams baseParams,
+      BuildRuleResolver ruleResolver,
+      SourcePathResolver pathResolver,
+      SourcePathRuleFinder ruleFinder,
+      LuaPlatform luaPlatform,
+      CxxBuckConfig cxxBuckConfig,
+      BuildTarget target,
+      Path output,
+      String mainModule,
+      Optional<? extends BuildTarget> nativeStarterLibrary,
+      Optional<? extends Path> relativeModulesDir,
+      Optional<? extends Path> relativePythonModulesDir,
+      Optional<? extends Path> relativeNativeLibsDir) {
+    this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+    this.baseTarget = Objects.requireNonNull(baseTarget, "baseTarget");
+    this.baseParams = Objects.requireNonNull(baseParams, "baseParams");
+    this.ruleResolver = Objects.requireNonNull(ruleResolver, "ruleResolver");
+    this.pathResolver = Objects.requireNonNull(pathResolver, "pathResolver");
+    this.ruleFinder = Objects.requireNonNull(ruleFinder, "ruleFinder");
+    this.luaPlatform = Objects.requireNonNull(luaPlatform, "luaPlatform");
+    this.cxxBuckConfig = Objects.requireNonNull(cxxBuckConfig, "cxxBuckConfig");
+    this.target = Objects.requireNonNull(target, "target");
+    this.output = Objects.requireNonNull(output, "output");
+    this.mainModule = Objects.requireNonNull(mainModule, "mainModule");
+    this.nativeStarterLibrary = nativeStarterLibrary.orElse(null);
+    this.relativeModulesDir = relativeModulesDir.orElse(null);
+    this.relativePythonModulesDir = relativePythonModulesDir.orElse(null);
+    this.relativeNativeLibsDir = relativeNativeLibsDir.orElse(null);
+  }
+
+  private NativeExecutableStarter(
+      NativeExecutableStarter original,
+      ProjectFilesystem projectFilesystem,
+      BuildTarget baseTarget,
+      BuildRuleParams baseParams,
+      BuildRuleResolver ruleResolver,
+      SourcePathResolver pathResolver,
+      SourcePathRuleFinder ruleFinder,
+      LuaPlatform luaPlatform,
+      CxxBuckConfig cxxBuckConfig,
+      BuildTarget target,
+      Path output,
+      String mainModule,
+      @Nullable BuildTarget nativeStarterLibrary,
+      @Nullable Path relativeModulesDir,
+      @Nullable Path relativePythonModulesDir,
+      @Nullable Path relativeNativeLibsDir) {
+    this.projectFilesystem = projectFilesystem;
+    this.baseTarget = baseTarget;
+    this.baseParams = baseParams;
+    this.ruleResolver = ruleResolver;
+    this.pathResolver = pathResolver;
+    this.ruleFinder = ruleFinder;
+    this.luaPlatform = luaPlatform;
+    this.cxxBuckConfig = cxxBuckConfig;
+    this.target = target;
+    this.output = output;
+    this.mainModule = mainModule;
+    this.nativeStarterLibrary = nativeStarterLibrary;
+    this.relativeModulesDir = relativeModulesDir;
+    this.relativePythonModulesDir = relativePythonModulesDir;
+    this.relativeNativeLibsDir = relativeNativeLibsDir;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code baseTarget} attribute
+   */
+  @Override
+  public BuildTarget getBaseTarget() {
+    return baseTarget;
+  }
+
+  /**
+   * @return The value of the {@code baseParams} attribute
+   */
+  @Override
+  public BuildRuleParams getBaseParams() {
+    return baseParams;
+  }
+
+  /**
+   * @return The value of the {@code ruleResolver} attribute
+   */
+  @Override
+  public BuildRuleResolver getRuleResolver() {
+    return ruleResolver;
+  }
+
+  /**
+   * @return The value of the {@code pathResolver} attribute
+   */
+  @Override
+  public SourcePathResolver getPathResolver() {
+    return pathResolver;
+  }
+
+  /**
+   * @return The value of the {@code ruleFinder} attribute
+   */
+  @Override
+  public SourcePathRuleFinder getRuleFinder() {
+    return ruleFinder;
+  }
+
+  /**
+   * @return The value of the {@code luaPlatform} attribute
+   */
+  @Override
+  public LuaPlatform getLuaPlatform() {
+    return luaPlatform;
+  }
+
+  /**
+   * @return The value of the {@code cxxBuckConfig} attribute
+   */
+  @Override
+  public CxxBuckConfig getCxxBuckConfig() {
+    return cxxBuckConfig;
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * @return The value of the {@code output} attribute
+   */
+  @Override
+  public Path getOutput() {
+    return output;
+  }
+
+  /**
+   * @return The value of the {@code mainModule} attribute
+   */
+  @Override
+  public String getMainModule() {
+    return mainModule;
+  }
+
+  /**
+   * @return The value of the {@code nativeStarterLibrary} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getNativeStarterLibrary() {
+    return Optional.ofNullable(nativeStarterLibrary);
+  }
+
+  /**
+   * @return The value of the {@code relativeModulesDir} attribute
+   */
+  @Override
+  public Optional<Path> getRelativeModulesDir() {
+    return Optional.ofNullable(relativeModulesDir);
+  }
+
+  /**
+   * @return The value of the {@code relativePythonModulesDir} attribute
+   */
+  @Override
+  public Optional<Path> getRelativePythonModulesDir() {
+    return Optional.ofNullable(relativePythonModulesDir);
+  }
+
+  /**
+   * @return The value of the {@code relativeNativeLibsDir} attribute
+   */
+  @Override
+  public Optional<Path> getRelativeNativeLibsDir() {
+    return Optional.ofNullable(relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNativeExecutableStarter#getProjectFilesystem() projectFilesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectFilesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final NativeExecutableStarter withProjectFilesystem(ProjectFilesystem value) {
+    if (this.projectFilesystem == value) return this;
+    ProjectFilesystem newValue = Objects.requireNonNull(value, "projectFilesystem");
+    return new NativeExecutableStarter(
+        this,
+        newValue,
+        this.baseTarget,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaPlatform,
+        this.cxxBuckConfig,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir,
+        this.relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNativeExecutableStarter#getBaseTarget() baseTarget} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for baseTarget
+   * @return A modified copy of the {@code this} object
+   */
+  public final NativeExecutableStarter withBaseTarget(BuildTarget value) {
+    if (this.baseTarget == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "baseTarget");
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        newValue,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaPlatform,
+        this.cxxBuckConfig,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir,
+        this.relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNativeExecutableStarter#getBaseParams() baseParams} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for baseParams
+   * @return A modified copy of the {@code this} object
+   */
+  public final NativeExecutableStarter withBaseParams(BuildRuleParams value) {
+    if (this.baseParams == value) return this;
+    BuildRuleParams newValue = Objects.requireNonNull(value, "baseParams");
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        this.baseTarget,
+        newValue,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaPlatform,
+        this.cxxBuckConfig,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir,
+        this.relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNativeExecutableStarter#getRuleResolver() ruleResolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleResolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final NativeExecutableStarter withRuleResolver(BuildRuleResolver value) {
+    if (this.ruleResolver == value) return this;
+    BuildRuleResolver newValue = Objects.requireNonNull(value, "ruleResolver");
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        this.baseTarget,
+        this.baseParams,
+        newValue,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaPlatform,
+        this.cxxBuckConfig,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir,
+        this.relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNativeExecutableStarter#getPathResolver() pathResolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for pathResolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final NativeExecutableStarter withPathResolver(SourcePathResolver value) {
+    if (this.pathResolver == value) return this;
+    SourcePathResolver newValue = Objects.requireNonNull(value, "pathResolver");
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        this.baseTarget,
+        this.baseParams,
+        this.ruleResolver,
+        newValue,
+        this.ruleFinder,
+        this.luaPlatform,
+        this.cxxBuckConfig,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir,
+        this.relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNativeExecutableStarter#getRuleFinder() ruleFinder} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleFinder
+   * @return A modified copy of the {@code this} object
+   */
+  public final NativeExecutableStarter withRuleFinder(SourcePathRuleFinder value) {
+    if (this.ruleFinder == value) return this;
+    SourcePathRuleFinder newValue = Objects.requireNonNull(value, "ruleFinder");
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        this.baseTarget,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        newValue,
+        this.luaPlatform,
+        this.cxxBuckConfig,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir,
+        this.relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNativeExecutableStarter#getLuaPlatform() luaPlatform} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for luaPlatform
+   * @return A modified copy of the {@code this} object
+   */
+  public final NativeExecutableStarter withLuaPlatform(LuaPlatform value) {
+    if (this.luaPlatform == value) return this;
+    LuaPlatform newValue = Objects.requireNonNull(value, "luaPlatform");
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        this.baseTarget,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        newValue,
+        this.cxxBuckConfig,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir,
+        this.relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNativeExecutableStarter#getCxxBuckConfig() cxxBuckConfig} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cxxBuckConfig
+   * @return A modified copy of the {@code this} object
+   */
+  public final NativeExecutableStarter withCxxBuckConfig(CxxBuckConfig value) {
+    if (this.cxxBuckConfig == value) return this;
+    CxxBuckConfig newValue = Objects.requireNonNull(value, "cxxBuckConfig");
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        this.baseTarget,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaPlatform,
+        newValue,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir,
+        this.relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNativeExecutableStarter#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final NativeExecutableStarter withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "target");
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        this.baseTarget,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaPlatform,
+        this.cxxBuckConfig,
+        newValue,
+        this.output,
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir,
+        this.relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNativeExecutableStarter#getOutput() output} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for output
+   * @return A modified copy of the {@code this} object
+   */
+  public final NativeExecutableStarter withOutput(Path value) {
+    if (this.output == value) return this;
+    Path newValue = Objects.requireNonNull(value, "output");
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        this.baseTarget,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaPlatform,
+        this.cxxBuckConfig,
+        this.target,
+        newValue,
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir,
+        this.relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNativeExecutableStarter#getMainModule() mainModule} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for mainModule
+   * @return A modified copy of the {@code this} object
+   */
+  public final NativeExecutableStarter withMainModule(String value) {
+    if (this.mainModule.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "mainModule");
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        this.baseTarget,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaPlatform,
+        this.cxxBuckConfig,
+        this.target,
+        this.output,
+        newValue,
+        this.nativeStarterLibrary,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir,
+        this.relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNativeExecutableStarter#getNativeStarterLibrary() nativeStarterLibrary} attribute.
+   * @param value The value for nativeStarterLibrary
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeExecutableStarter withNativeStarterLibrary(BuildTarget value) {
+    @Nullable BuildTarget newValue = Objects.requireNonNull(value, "nativeStarterLibrary");
+    if (this.nativeStarterLibrary == newValue) return this;
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        this.baseTarget,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaPlatform,
+        this.cxxBuckConfig,
+        this.target,
+        this.output,
+        this.mainModule,
+        newValue,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir,
+        this.relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNativeExecutableStarter#getNativeStarterLibrary() nativeStarterLibrary} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for nativeStarterLibrary
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeExecutableStarter withNativeStarterLibrary(Optional<? extends BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.nativeStarterLibrary == value) return this;
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        this.baseTarget,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaPlatform,
+        this.cxxBuckConfig,
+        this.target,
+        this.output,
+        this.mainModule,
+        value,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir,
+        this.relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNativeExecutableStarter#getRelativeModulesDir() relativeModulesDir} attribute.
+   * @param value The value for relativeModulesDir
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeExecutableStarter withRelativeModulesDir(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "relativeModulesDir");
+    if (this.relativeModulesDir == newValue) return this;
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        this.baseTarget,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaPlatform,
+        this.cxxBuckConfig,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.nativeStarterLibrary,
+        newValue,
+        this.relativePythonModulesDir,
+        this.relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNativeExecutableStarter#getRelativeModulesDir() relativeModulesDir} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for relativeModulesDir
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeExecutableStarter withRelativeModulesDir(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.relativeModulesDir == value) return this;
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        this.baseTarget,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaPlatform,
+        this.cxxBuckConfig,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.nativeStarterLibrary,
+        value,
+        this.relativePythonModulesDir,
+        this.relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNativeExecutableStarter#getRelativePythonModulesDir() relativePythonModulesDir} attribute.
+   * @param value The value for relativePythonModulesDir
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeExecutableStarter withRelativePythonModulesDir(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "relativePythonModulesDir");
+    if (this.relativePythonModulesDir == newValue) return this;
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        this.baseTarget,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaPlatform,
+        this.cxxBuckConfig,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.relativeModulesDir,
+        newValue,
+        this.relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNativeExecutableStarter#getRelativePythonModulesDir() relativePythonModulesDir} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for relativePythonModulesDir
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeExecutableStarter withRelativePythonModulesDir(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.relativePythonModulesDir == value) return this;
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        this.baseTarget,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaPlatform,
+        this.cxxBuckConfig,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.relativeModulesDir,
+        value,
+        this.relativeNativeLibsDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNativeExecutableStarter#getRelativeNativeLibsDir() relativeNativeLibsDir} attribute.
+   * @param value The value for relativeNativeLibsDir
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeExecutableStarter withRelativeNativeLibsDir(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "relativeNativeLibsDir");
+    if (this.relativeNativeLibsDir == newValue) return this;
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        this.baseTarget,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaPlatform,
+        this.cxxBuckConfig,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNativeExecutableStarter#getRelativeNativeLibsDir() relativeNativeLibsDir} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for relativeNativeLibsDir
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeExecutableStarter withRelativeNativeLibsDir(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.relativeNativeLibsDir == value) return this;
+    return new NativeExecutableStarter(
+        this,
+        this.projectFilesystem,
+        this.baseTarget,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaPlatform,
+        this.cxxBuckConfig,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.nativeStarterLibrary,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NativeExecutableStarter} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NativeExecutableStarter
+        && equalTo((NativeExecutableStarter) another);
+  }
+
+  private boolean equalTo(NativeExecutableStarter another) {
+    return projectFilesystem.equals(another.projectFilesystem)
+        && baseTarget.equals(another.baseTarget)
+        && baseParams.equals(another.baseParams)
+        && ruleResolver.equals(another.ruleResolver)
+        && pathResolver.equals(another.pathResolver)
+        && ruleFinder.equals(another.ruleFinder)
+        && luaPlatform.equals(another.luaPlatform)
+        && cxxBuckConfig.equals(another.cxxBuckConfig)
+        && target.equals(another.target)
+        && output.equals(another.output)
+        && mainModule.equals(another.mainModule)
+        && Objects.equals(nativeStarterLibrary, another.nativeStarterLibrary)
+        && Objects.equals(relativeModulesDir, another.relativeModulesDir)
+        && Objects.equals(relativePythonModulesDir, another.relativePythonModulesDir)
+        && Objects.equals(relativeNativeLibsDir, another.relativeNativeLibsDir);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code projectFilesystem}, {@code baseTarget}, {@code baseParams}, {@code ruleResolver}, {@code pathResolver}, {@code ruleFinder}, {@code luaPlatform}, {@code cxxBuckConfig}, {@code target}, {@code output}, {@code mainModule}, {@code nativeStarterLibrary}, {@code relativeModulesDir}, {@code relativePythonModulesDir}, {@code relativeNativeLibsDir}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + projectFilesystem.hashCode();
+    h += (h << 5) + baseTarget.hashCode();
+    h += (h << 5) + baseParams.hashCode();
+    h += (h << 5) + ruleResolver.hashCode();
+    h += (h << 5) + pathResolver.hashCode();
+    h += (h << 5) + ruleFinder.hashCode();
+    h += (h << 5) + luaPlatform.hashCode();
+    h += (h << 5) + cxxBuckConfig.hashCode();
+    h += (h << 5) + target.hashCode();
+    h += (h << 5) + output.hashCode();
+    h += (h << 5) + mainModule.hashCode();
+    h += (h << 5) + Objects.hashCode(nativeStarterLibrary);
+    h += (h << 5) + Objects.hashCode(relativeModulesDir);
+    h += (h << 5) + Objects.hashCode(relativePythonModulesDir);
+    h += (h << 5) + Objects.hashCode(relativeNativeLibsDir);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NativeExecutableStarter} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NativeExecutableStarter")
+        .omitNullValues()
+        .add("projectFilesystem", projectFilesystem)
+        .add("baseTarget", baseTarget)
+        .add("baseParams", baseParams)
+        .add("ruleResolver", ruleResolver)
+        .add("pathResolver", pathResolver)
+        .add("ruleFinder", ruleFinder)
+        .add("luaPlatform", luaPlatform)
+        .add("cxxBuckConfig", cxxBuckConfig)
+        .add("target", target)
+        .add("output", output)
+        .add("mainModule", mainModule)
+        .add("nativeStarterLibrary", nativeStarterLibrary)
+        .add("relativeModulesDir", relativeModulesDir)
+        .add("relativePythonModulesDir", relativePythonModulesDir)
+        .add("relativeNativeLibsDir", relativeNativeLibsDir)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NativeExecutableStarter} instance.
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @param baseTarget The value for the {@code baseTarget} attribute
+   * @param baseParams The value for the {@code baseParams} attribute
+   * @param ruleResolver The value for the {@code ruleResolver} attribute
+   * @param pathResolver The value for the {@code pathResolver} attribute
+   * @param ruleFinder The value for the {@code ruleFinder} attribute
+   * @param luaPlatform The value for the {@code luaPlatform} attribute
+   * @param cxxBuckConfig The value for the {@code cxxBuckConfig} attribute
+   * @param target The value for the {@code target} attribute
+   * @param output The value for the {@code output} attribute
+   * @param mainModule The value for the {@code mainModule} attribute
+   * @param nativeStarterLibrary The value for the {@code nativeStarterLibrary} attribute
+   * @param relativeModulesDir The value for the {@code relativeModulesDir} attribute
+   * @param relativePythonModulesDir The value for the {@code relativePythonModulesDir} attribute
+   * @param relativeNativeLibsDir The value for the {@code relativeNativeLibsDir} attribute
+   * @return An immutable NativeExecutableStarter instance
+   */
+  public static NativeExecutableStarter of(ProjectFilesystem projectFilesystem, BuildTarget baseTarget, BuildRuleParams baseParams, BuildRuleResolver ruleResolver, SourcePathResolver pathResolver, SourcePathRuleFinder ruleFinder, LuaPlatform luaPlatform, CxxBuckConfig cxxBuckConfig, BuildTarget target, Path output, String mainModule, Optional<? extends BuildTarget> nativeStarterLibrary, Optional<? extends Path> relativeModulesDir, Optional<? extends Path> relativePythonModulesDir, Optional<? extends Path> relativeNativeLibsDir) {
+    return new NativeExecutableStarter(projectFilesystem, baseTarget, baseParams, ruleResolver, pathResolver, ruleFinder, luaPlatform, cxxBuckConfig, target, output, mainModule, nativeStarterLibrary, relativeModulesDir, relativePythonModulesDir, relativeNativeLibsDir);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractNativeExecutableStarter} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable NativeExecutableStarter instance
+   */
+  static NativeExecutableStarter copyOf(AbstractNativeExecutableStarter instance) {
+    if (instance instanceof NativeExecutableStarter) {
+      return (NativeExecutableStarter) instance;
+    }
+    return NativeExecutableStarter.of(instance.getProjectFilesystem(), instance.getBaseTarget(), instance.getBaseParams(), instance.getRuleResolver(), instance.getPathResolver(), instance.getRuleFinder(), instance.getLuaPlatform(), instance.getCxxBuckConfig(), instance.getTarget(), instance.getOutput(), instance.getMainModule(), instance.getNativeStarterLibrary(), instance.getRelativeModulesDir(), instance.getRelativePythonModulesDir(), instance.getRelativeNativeLibsDir());
+  }
+}
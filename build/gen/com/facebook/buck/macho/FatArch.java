@@ -0,0 +1,235 @@
+package com.facebook.buck.macho;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.UnsignedInteger;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * This header file describes the structures of the file format for "fat" architecture specific file
+ * (wrapper design). At the begining of the file there is one fat_header structure followed by a
+ * number of fat_arch structures. For each architecture in the file, specified by a pair of cputype
+ * and cpusubtype, the fat_header describes the file offset, file size and alignment in the file of
+ * the architecture specific member. The padded bytes in the file to place each member on it's
+ * specific alignment are defined to be read as zeros and can be left as "holes" if the file system
+ * can support them as long as they read as zeros.
+ * <p>All structures defined here are always written and read to/from disk in big-endian order.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractFatArch"})
+@Immutable
+public final class FatArch implements AbstractFatArch {
+  private final Integer cputype;
+  private final Integer cpusubtype;
+  private final UnsignedInteger offset;
+  private final UnsignedInteger size;
+  private final UnsignedInteger align;
+
+  private FatArch(
+      Integer cputype,
+      Integer cpusubtype,
+      UnsignedInteger offset,
+      UnsignedInteger size,
+      UnsignedInteger align) {
+    this.cputype = Objects.requireNonNull(cputype, "cputype");
+    this.cpusubtype = Objects.requireNonNull(cpusubtype, "cpusubtype");
+    this.offset = Objects.requireNonNull(offset, "offset");
+    this.size = Objects.requireNonNull(size, "size");
+    this.align = Objects.requireNonNull(align, "align");
+  }
+
+  private FatArch(
+      FatArch original,
+      Integer cputype,
+      Integer cpusubtype,
+      UnsignedInteger offset,
+      UnsignedInteger size,
+      UnsignedInteger align) {
+    this.cputype = cputype;
+    this.cpusubtype = cpusubtype;
+    this.offset = offset;
+    this.size = size;
+    this.align = align;
+  }
+
+  /**
+   *@return file offset to this object file 
+   */
+  @Override
+  public Integer getCputype() {
+    return cputype;
+  }
+
+  /**
+   *@return machine specifier (int) 
+   */
+  @Override
+  public Integer getCpusubtype() {
+    return cpusubtype;
+  }
+
+  /**
+   *@return file offset to this object file 
+   */
+  @Override
+  public UnsignedInteger getOffset() {
+    return offset;
+  }
+
+  /**
+   *@return size of this object file 
+   */
+  @Override
+  public UnsignedInteger getSize() {
+    return size;
+  }
+
+  /**
+   *@return alignment as a power of 2 
+   */
+  @Override
+  public UnsignedInteger getAlign() {
+    return align;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFatArch#getCputype() cputype} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cputype
+   * @return A modified copy of the {@code this} object
+   */
+  public final FatArch withCputype(Integer value) {
+    if (this.cputype.equals(value)) return this;
+    Integer newValue = Objects.requireNonNull(value, "cputype");
+    return new FatArch(this, newValue, this.cpusubtype, this.offset, this.size, this.align);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFatArch#getCpusubtype() cpusubtype} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cpusubtype
+   * @return A modified copy of the {@code this} object
+   */
+  public final FatArch withCpusubtype(Integer value) {
+    if (this.cpusubtype.equals(value)) return this;
+    Integer newValue = Objects.requireNonNull(value, "cpusubtype");
+    return new FatArch(this, this.cputype, newValue, this.offset, this.size, this.align);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFatArch#getOffset() offset} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for offset
+   * @return A modified copy of the {@code this} object
+   */
+  public final FatArch withOffset(UnsignedInteger value) {
+    if (this.offset.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "offset");
+    return new FatArch(this, this.cputype, this.cpusubtype, newValue, this.size, this.align);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFatArch#getSize() size} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for size
+   * @return A modified copy of the {@code this} object
+   */
+  public final FatArch withSize(UnsignedInteger value) {
+    if (this.size.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "size");
+    return new FatArch(this, this.cputype, this.cpusubtype, this.offset, newValue, this.align);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFatArch#getAlign() align} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for align
+   * @return A modified copy of the {@code this} object
+   */
+  public final FatArch withAlign(UnsignedInteger value) {
+    if (this.align.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "align");
+    return new FatArch(this, this.cputype, this.cpusubtype, this.offset, this.size, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code FatArch} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof FatArch
+        && equalTo((FatArch) another);
+  }
+
+  private boolean equalTo(FatArch another) {
+    return cputype.equals(another.cputype)
+        && cpusubtype.equals(another.cpusubtype)
+        && offset.equals(another.offset)
+        && size.equals(another.size)
+        && align.equals(another.align);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cputype}, {@code cpusubtype}, {@code offset}, {@code size}, {@code align}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + cputype.hashCode();
+    h += (h << 5) + cpusubtype.hashCode();
+    h += (h << 5) + offset.hashCode();
+    h += (h << 5) + size.hashCode();
+    h += (h << 5) + align.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FatArch} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FatArch")
+        .omitNullValues()
+        .add("cputype", cputype)
+        .add("cpusubtype", cpusubtype)
+        .add("offset", offset)
+        .add("size", size)
+        .add("align", align)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FatArch} instance.
+   * @param cputype The value for the {@code cputype} attribute
+   * @param cpusubtype The value for the {@code cpusubtype} attribute
+   * @param offset The value for the {@code offset} attribute
+   * @param size The value for the {@code size} attribute
+   * @param align The value for the {@code align} attribute
+   * @return An immutable FatArch instance
+   */
+  public static FatArch of(Integer cputype, Integer cpusubtype, UnsignedInteger offset, UnsignedInteger size, UnsignedInteger align) {
+    return new FatArch(cputype, cpusubtype, offset, size, align);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractFatArch} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable FatArch instance
+   */
+  static FatArch copyOf(AbstractFatArch instance) {
+    if (instance instanceof FatArch) {
+      return (FatArch) instance;
+    }
+    return FatArch.of(instance.getCputype(), instance.getCpusubtype(), instance.getOffset(), instance.getSize(), instance.getAlign());
+  }
+}
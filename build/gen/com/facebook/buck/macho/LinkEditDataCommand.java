@@ -0,0 +1,179 @@
+package com.facebook.buck.macho;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.UnsignedInteger;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractLinkEditDataCommand}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code LinkEditDataCommand.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractLinkEditDataCommand"})
+@Immutable
+public final class LinkEditDataCommand extends AbstractLinkEditDataCommand {
+  private final LoadCommandCommonFields loadCommandCommonFields;
+  private final UnsignedInteger dataoff;
+  private final UnsignedInteger datasize;
+
+  private LinkEditDataCommand(
+      LoadCommandCommonFields loadCommandCommonFields,
+      UnsignedInteger dataoff,
+      UnsignedInteger datasize) {
+    this.loadCommandCommonFields = Objects.requireNonNull(loadCommandCommonFields, "loadCommandCommonFields");
+    this.dataoff = Objects.requireNonNull(dataoff, "dataoff");
+    this.datasize = Objects.requireNonNull(datasize, "datasize");
+  }
+
+  private LinkEditDataCommand(
+      LinkEditDataCommand original,
+      LoadCommandCommonFields loadCommandCommonFields,
+      UnsignedInteger dataoff,
+      UnsignedInteger datasize) {
+    this.loadCommandCommonFields = loadCommandCommonFields;
+    this.dataoff = dataoff;
+    this.datasize = datasize;
+  }
+
+  /**
+   * @return The value of the {@code loadCommandCommonFields} attribute
+   */
+  @Override
+  public LoadCommandCommonFields getLoadCommandCommonFields() {
+    return loadCommandCommonFields;
+  }
+
+  /**
+   * @return The value of the {@code dataoff} attribute
+   */
+  @Override
+  public UnsignedInteger getDataoff() {
+    return dataoff;
+  }
+
+  /**
+   * @return The value of the {@code datasize} attribute
+   */
+  @Override
+  public UnsignedInteger getDatasize() {
+    return datasize;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLinkEditDataCommand#getLoadCommandCommonFields() loadCommandCommonFields} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for loadCommandCommonFields
+   * @return A modified copy of the {@code this} object
+   */
+  public final LinkEditDataCommand withLoadCommandCommonFields(LoadCommandCommonFields value) {
+    if (this.loadCommandCommonFields == value) return this;
+    LoadCommandCommonFields newValue = Objects.requireNonNull(value, "loadCommandCommonFields");
+    return validate(new LinkEditDataCommand(this, newValue, this.dataoff, this.datasize));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLinkEditDataCommand#getDataoff() dataoff} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for dataoff
+   * @return A modified copy of the {@code this} object
+   */
+  public final LinkEditDataCommand withDataoff(UnsignedInteger value) {
+    if (this.dataoff.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "dataoff");
+    return validate(new LinkEditDataCommand(this, this.loadCommandCommonFields, newValue, this.datasize));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLinkEditDataCommand#getDatasize() datasize} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for datasize
+   * @return A modified copy of the {@code this} object
+   */
+  public final LinkEditDataCommand withDatasize(UnsignedInteger value) {
+    if (this.datasize.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "datasize");
+    return validate(new LinkEditDataCommand(this, this.loadCommandCommonFields, this.dataoff, newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code LinkEditDataCommand} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof LinkEditDataCommand
+        && equalTo((LinkEditDataCommand) another);
+  }
+
+  private boolean equalTo(LinkEditDataCommand another) {
+    return loadCommandCommonFields.equals(another.loadCommandCommonFields)
+        && dataoff.equals(another.dataoff)
+        && datasize.equals(another.datasize);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code loadCommandCommonFields}, {@code dataoff}, {@code datasize}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + loadCommandCommonFields.hashCode();
+    h += (h << 5) + dataoff.hashCode();
+    h += (h << 5) + datasize.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LinkEditDataCommand} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LinkEditDataCommand")
+        .omitNullValues()
+        .add("loadCommandCommonFields", loadCommandCommonFields)
+        .add("dataoff", dataoff)
+        .add("datasize", datasize)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LinkEditDataCommand} instance.
+   * @param loadCommandCommonFields The value for the {@code loadCommandCommonFields} attribute
+   * @param dataoff The value for the {@code dataoff} attribute
+   * @param datasize The value for the {@code datasize} attribute
+   * @return An immutable LinkEditDataCommand instance
+   */
+  public static LinkEditDataCommand of(LoadCommandCommonFields loadCommandCommonFields, UnsignedInteger dataoff, UnsignedInteger datasize) {
+    return validate(new LinkEditDataCommand(loadCommandCommonFields, dataoff, datasize));
+  }
+
+
+  private static LinkEditDataCommand validate(LinkEditDataCommand instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractLinkEditDataCommand} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable LinkEditDataCommand instance
+   */
+  static LinkEditDataCommand copyOf(AbstractLinkEditDataCommand instance) {
+    if (instance instanceof LinkEditDataCommand) {
+      return (LinkEditDataCommand) instance;
+    }
+    return LinkEditDataCommand.of(instance.getLoadCommandCommonFields(), instance.getDataoff(), instance.getDatasize());
+  }
+}
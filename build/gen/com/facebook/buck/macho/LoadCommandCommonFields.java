@@ -0,0 +1,172 @@
+package com.facebook.buck.macho;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.UnsignedInteger;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractLoadCommandCommonFields}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code LoadCommandCommonFields.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractLoadCommandCommonFields"})
+@Immutable
+public final class LoadCommandCommonFields implements AbstractLoadCommandCommonFields {
+  private final int offsetInBinary;
+  private final UnsignedInteger cmd;
+  private final UnsignedInteger cmdsize;
+
+  private LoadCommandCommonFields(
+      int offsetInBinary,
+      UnsignedInteger cmd,
+      UnsignedInteger cmdsize) {
+    this.offsetInBinary = offsetInBinary;
+    this.cmd = Objects.requireNonNull(cmd, "cmd");
+    this.cmdsize = Objects.requireNonNull(cmdsize, "cmdsize");
+  }
+
+  private LoadCommandCommonFields(
+      LoadCommandCommonFields original,
+      int offsetInBinary,
+      UnsignedInteger cmd,
+      UnsignedInteger cmdsize) {
+    this.offsetInBinary = offsetInBinary;
+    this.cmd = cmd;
+    this.cmdsize = cmdsize;
+  }
+
+  /**
+   * @return The value of the {@code offsetInBinary} attribute
+   */
+  @Override
+  public int getOffsetInBinary() {
+    return offsetInBinary;
+  }
+
+  /**
+   * @return The value of the {@code cmd} attribute
+   */
+  @Override
+  public UnsignedInteger getCmd() {
+    return cmd;
+  }
+
+  /**
+   * @return The value of the {@code cmdsize} attribute
+   */
+  @Override
+  public UnsignedInteger getCmdsize() {
+    return cmdsize;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLoadCommandCommonFields#getOffsetInBinary() offsetInBinary} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for offsetInBinary
+   * @return A modified copy of the {@code this} object
+   */
+  public final LoadCommandCommonFields withOffsetInBinary(int value) {
+    if (this.offsetInBinary == value) return this;
+    return new LoadCommandCommonFields(this, value, this.cmd, this.cmdsize);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLoadCommandCommonFields#getCmd() cmd} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cmd
+   * @return A modified copy of the {@code this} object
+   */
+  public final LoadCommandCommonFields withCmd(UnsignedInteger value) {
+    if (this.cmd.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "cmd");
+    return new LoadCommandCommonFields(this, this.offsetInBinary, newValue, this.cmdsize);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLoadCommandCommonFields#getCmdsize() cmdsize} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cmdsize
+   * @return A modified copy of the {@code this} object
+   */
+  public final LoadCommandCommonFields withCmdsize(UnsignedInteger value) {
+    if (this.cmdsize.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "cmdsize");
+    return new LoadCommandCommonFields(this, this.offsetInBinary, this.cmd, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code LoadCommandCommonFields} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof LoadCommandCommonFields
+        && equalTo((LoadCommandCommonFields) another);
+  }
+
+  private boolean equalTo(LoadCommandCommonFields another) {
+    return offsetInBinary == another.offsetInBinary
+        && cmd.equals(another.cmd)
+        && cmdsize.equals(another.cmdsize);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code offsetInBinary}, {@code cmd}, {@code cmdsize}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + offsetInBinary;
+    h += (h << 5) + cmd.hashCode();
+    h += (h << 5) + cmdsize.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LoadCommandCommonFields} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LoadCommandCommonFields")
+        .omitNullValues()
+        .add("offsetInBinary", offsetInBinary)
+        .add("cmd", cmd)
+        .add("cmdsize", cmdsize)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LoadCommandCommonFields} instance.
+   * @param offsetInBinary The value for the {@code offsetInBinary} attribute
+   * @param cmd The value for the {@code cmd} attribute
+   * @param cmdsize The value for the {@code cmdsize} attribute
+   * @return An immutable LoadCommandCommonFields instance
+   */
+  public static LoadCommandCommonFields of(int offsetInBinary, UnsignedInteger cmd, UnsignedInteger cmdsize) {
+    return new LoadCommandCommonFields(offsetInBinary, cmd, cmdsize);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractLoadCommandCommonFields} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable LoadCommandCommonFields instance
+   */
+  static LoadCommandCommonFields copyOf(AbstractLoadCommandCommonFields instance) {
+    if (instance instanceof LoadCommandCommonFields) {
+      return (LoadCommandCommonFields) instance;
+    }
+    return LoadCommandCommonFields.of(instance.getOffsetInBinary(), instance.getCmd(), instance.getCmdsize());
+  }
+}
@@ -0,0 +1,260 @@
+package com.facebook.buck.macho;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractNlist}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code Nlist.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNlist"})
+@Immutable
+public final class Nlist implements AbstractNlist {
+  private final int offsetInBinary;
+  private final UnsignedInteger n_strx;
+  private final UnsignedInteger n_type;
+  private final UnsignedInteger n_sect;
+  private final UnsignedInteger n_desc;
+  private final UnsignedLong n_value;
+
+  private Nlist(
+      int offsetInBinary,
+      UnsignedInteger n_strx,
+      UnsignedInteger n_type,
+      UnsignedInteger n_sect,
+      UnsignedInteger n_desc,
+      UnsignedLong n_value) {
+    this.offsetInBinary = offsetInBinary;
+    this.n_strx = Objects.requireNonNull(n_strx, "n_strx");
+    this.n_type = Objects.requireNonNull(n_type, "n_type");
+    this.n_sect = Objects.requireNonNull(n_sect, "n_sect");
+    this.n_desc = Objects.requireNonNull(n_desc, "n_desc");
+    this.n_value = Objects.requireNonNull(n_value, "n_value");
+  }
+
+  private Nlist(
+      Nlist original,
+      int offsetInBinary,
+      UnsignedInteger n_strx,
+      UnsignedInteger n_type,
+      UnsignedInteger n_sect,
+      UnsignedInteger n_desc,
+      UnsignedLong n_value) {
+    this.offsetInBinary = offsetInBinary;
+    this.n_strx = n_strx;
+    this.n_type = n_type;
+    this.n_sect = n_sect;
+    this.n_desc = n_desc;
+    this.n_value = n_value;
+  }
+
+  /**
+   * @return The value of the {@code offsetInBinary} attribute
+   */
+  @Override
+  public int getOffsetInBinary() {
+    return offsetInBinary;
+  }
+
+  /**
+   * @return The value of the {@code n_strx} attribute
+   */
+  @Override
+  public UnsignedInteger getN_strx() {
+    return n_strx;
+  }
+
+  /**
+   * @return The value of the {@code n_type} attribute
+   */
+  @Override
+  public UnsignedInteger getN_type() {
+    return n_type;
+  }
+
+  /**
+   * @return The value of the {@code n_sect} attribute
+   */
+  @Override
+  public UnsignedInteger getN_sect() {
+    return n_sect;
+  }
+
+  /**
+   * @return The value of the {@code n_desc} attribute
+   */
+  @Override
+  public UnsignedInteger getN_desc() {
+    return n_desc;
+  }
+
+  /**
+   * @return The value of the {@code n_value} attribute
+   */
+  @Override
+  public UnsignedLong getN_value() {
+    return n_value;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNlist#getOffsetInBinary() offsetInBinary} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for offsetInBinary
+   * @return A modified copy of the {@code this} object
+   */
+  public final Nlist withOffsetInBinary(int value) {
+    if (this.offsetInBinary == value) return this;
+    return new Nlist(this, value, this.n_strx, this.n_type, this.n_sect, this.n_desc, this.n_value);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNlist#getN_strx() n_strx} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for n_strx
+   * @return A modified copy of the {@code this} object
+   */
+  public final Nlist withN_strx(UnsignedInteger value) {
+    if (this.n_strx.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "n_strx");
+    return new Nlist(this, this.offsetInBinary, newValue, this.n_type, this.n_sect, this.n_desc, this.n_value);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNlist#getN_type() n_type} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for n_type
+   * @return A modified copy of the {@code this} object
+   */
+  public final Nlist withN_type(UnsignedInteger value) {
+    if (this.n_type.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "n_type");
+    return new Nlist(this, this.offsetInBinary, this.n_strx, newValue, this.n_sect, this.n_desc, this.n_value);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNlist#getN_sect() n_sect} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for n_sect
+   * @return A modified copy of the {@code this} object
+   */
+  public final Nlist withN_sect(UnsignedInteger value) {
+    if (this.n_sect.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "n_sect");
+    return new Nlist(this, this.offsetInBinary, this.n_strx, this.n_type, newValue, this.n_desc, this.n_value);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNlist#getN_desc() n_desc} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for n_desc
+   * @return A modified copy of the {@code this} object
+   */
+  public final Nlist withN_desc(UnsignedInteger value) {
+    if (this.n_desc.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "n_desc");
+    return new Nlist(this, this.offsetInBinary, this.n_strx, this.n_type, this.n_sect, newValue, this.n_value);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNlist#getN_value() n_value} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for n_value
+   * @return A modified copy of the {@code this} object
+   */
+  public final Nlist withN_value(UnsignedLong value) {
+    if (this.n_value.equals(value)) return this;
+    UnsignedLong newValue = Objects.requireNonNull(value, "n_value");
+    return new Nlist(this, this.offsetInBinary, this.n_strx, this.n_type, this.n_sect, this.n_desc, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code Nlist} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof Nlist
+        && equalTo((Nlist) another);
+  }
+
+  private boolean equalTo(Nlist another) {
+    return offsetInBinary == another.offsetInBinary
+        && n_strx.equals(another.n_strx)
+        && n_type.equals(another.n_type)
+        && n_sect.equals(another.n_sect)
+        && n_desc.equals(another.n_desc)
+        && n_value.equals(another.n_value);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code offsetInBinary}, {@code n_strx}, {@code n_type}, {@code n_sect}, {@code n_desc}, {@code n_value}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + offsetInBinary;
+    h += (h << 5) + n_strx.hashCode();
+    h += (h << 5) + n_type.hashCode();
+    h += (h << 5) + n_sect.hashCode();
+    h += (h << 5) + n_desc.hashCode();
+    h += (h << 5) + n_value.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code Nlist} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("Nlist")
+        .omitNullValues()
+        .add("offsetInBinary", offsetInBinary)
+        .add("n_strx", n_strx)
+        .add("n_type", n_type)
+        .add("n_sect", n_sect)
+        .add("n_desc", n_desc)
+        .add("n_value", n_value)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code Nlist} instance.
+   * @param offsetInBinary The value for the {@code offsetInBinary} attribute
+   * @param n_strx The value for the {@code n_strx} attribute
+   * @param n_type The value for the {@code n_type} attribute
+   * @param n_sect The value for the {@code n_sect} attribute
+   * @param n_desc The value for the {@code n_desc} attribute
+   * @param n_value The value for the {@code n_value} attribute
+   * @return An immutable Nlist instance
+   */
+  public static Nlist of(int offsetInBinary, UnsignedInteger n_strx, UnsignedInteger n_type, UnsignedInteger n_sect, UnsignedInteger n_desc, UnsignedLong n_value) {
+    return new Nlist(offsetInBinary, n_strx, n_type, n_sect, n_desc, n_value);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractNlist} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable Nlist instance
+   */
+  static Nlist copyOf(AbstractNlist instance) {
+    if (instance instanceof Nlist) {
+      return (Nlist) instance;
+    }
+    return Nlist.of(instance.getOffsetInBinary(), instance.getN_strx(), instance.getN_type(), instance.getN_sect(), instance.getN_desc(), instance.getN_value());
+  }
+}
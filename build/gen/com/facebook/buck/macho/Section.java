@@ -0,0 +1,671 @@
+package com.facebook.buck.macho;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractSection}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code Section.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSection"})
+@Immutable
+public final class Section extends AbstractSection {
+  private final int offsetInBinary;
+  private final String sectname;
+  private final String segname;
+  private final UnsignedLong addr;
+  private final UnsignedLong size;
+  private final UnsignedInteger offset;
+  private final UnsignedInteger align;
+  private final UnsignedInteger reloff;
+  private final UnsignedInteger nreloc;
+  private final UnsignedInteger flags;
+  private final UnsignedInteger reserved1;
+  private final UnsignedInteger reserved2;
+  private final @Nullable UnsignedInteger reserved3;
+
+  private Section(
+      int offsetInBinary,
+      String sectname,
+      String segname,
+      UnsignedLong addr,
+      UnsignedLong size,
+      UnsignedInteger offset,
+      UnsignedInteger align,
+      UnsignedInteger reloff,
+      UnsignedInteger nreloc,
+      UnsignedInteger flags,
+      UnsignedInteger reserved1,
+      UnsignedInteger reserved2,
+      Optional<? extends UnsignedInteger> reserved3) {
+    this.offsetInBinary = offsetInBinary;
+    this.sectname = Objects.requireNonNull(sectname, "sectname");
+    this.segname = Objects.requireNonNull(segname, "segname");
+    this.addr = Objects.requireNonNull(addr, "addr");
+    this.size = Objects.requireNonNull(size, "size");
+    this.offset = Objects.requireNonNull(offset, "offset");
+    this.align = Objects.requireNonNull(align, "align");
+    this.reloff = Objects.requireNonNull(reloff, "reloff");
+    this.nreloc = Objects.requireNonNull(nreloc, "nreloc");
+    this.flags = Objects.requireNonNull(flags, "flags");
+    this.reserved1 = Objects.requireNonNull(reserved1, "reserved1");
+    this.reserved2 = Objects.requireNonNull(reserved2, "reserved2");
+    this.reserved3 = reserved3.orElse(null);
+  }
+
+  private Section(
+      Section original,
+      int offsetInBinary,
+      String sectname,
+      String segname,
+      UnsignedLong addr,
+      UnsignedLong size,
+      UnsignedInteger offset,
+      UnsignedInteger align,
+      UnsignedInteger reloff,
+      UnsignedInteger nreloc,
+      UnsignedInteger flags,
+      UnsignedInteger reserved1,
+      UnsignedInteger reserved2,
+      @Nullable UnsignedInteger reserved3) {
+    this.offsetInBinary = offsetInBinary;
+    this.sectname = sectname;
+    this.segname = segname;
+    this.addr = addr;
+    this.size = size;
+    this.offset = offset;
+    this.align = align;
+    this.reloff = reloff;
+    this.nreloc = nreloc;
+    this.flags = flags;
+    this.reserved1 = reserved1;
+    this.reserved2 = reserved2;
+    this.reserved3 = reserved3;
+  }
+
+  /**
+   * @return The value of the {@code offsetInBinary} attribute
+   */
+  @Override
+  public int getOffsetInBinary() {
+    return offsetInBinary;
+  }
+
+  /**
+   * @return The value of the {@code sectname} attribute
+   */
+  @Override
+  public String getSectname() {
+    return sectname;
+  }
+
+  /**
+   * @return The value of the {@code segname} attribute
+   */
+  @Override
+  public String getSegname() {
+    return segname;
+  }
+
+  /**
+   * @return The value of the {@code addr} attribute
+   */
+  @Override
+  public UnsignedLong getAddr() {
+    return addr;
+  }
+
+  /**
+   * @return The value of the {@code size} attribute
+   */
+  @Override
+  public UnsignedLong getSize() {
+    return size;
+  }
+
+  /**
+   * @return The value of the {@code offset} attribute
+   */
+  @Override
+  public UnsignedInteger getOffset() {
+    return offset;
+  }
+
+  /**
+   * @return The value of the {@code align} attribute
+   */
+  @Override
+  public UnsignedInteger getAlign() {
+    return align;
+  }
+
+  /**
+   * @return The value of the {@code reloff} attribute
+   */
+  @Override
+  public UnsignedInteger getReloff() {
+    return reloff;
+  }
+
+  /**
+   * @return The value of the {@code nreloc} attribute
+   */
+  @Override
+  public UnsignedInteger getNreloc() {
+    return nreloc;
+  }
+
+  /**
+   * @return The value of the {@code flags} attribute
+   */
+  @Override
+  public UnsignedInteger getFlags() {
+    return flags;
+  }
+
+  /**
+   * @return The value of the {@code reserved1} attribute
+   */
+  @Override
+  public UnsignedInteger getReserved1() {
+    return reserved1;
+  }
+
+  /**
+   * @return The value of the {@code reserved2} attribute
+   */
+  @Override
+  public UnsignedInteger getReserved2() {
+    return reserved2;
+  }
+
+  /**
+   * @return The value of the {@code reserved3} attribute
+   */
+  @Override
+  public Optional<UnsignedInteger> getReserved3() {
+    return Optional.ofNullable(reserved3);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSection#getOffsetInBinary() offsetInBinary} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for offsetInBinary
+   * @return A modified copy of the {@code this} object
+   */
+  public final Section withOffsetInBinary(int value) {
+    if (this.offsetInBinary == value) return this;
+    return new Section(
+        this,
+        value,
+        this.sectname,
+        this.segname,
+        this.addr,
+        this.size,
+        this.offset,
+        this.align,
+        this.reloff,
+        this.nreloc,
+        this.flags,
+        this.reserved1,
+        this.reserved2,
+        this.reserved3);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSection#getSectname() sectname} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sectname
+   * @return A modified copy of the {@code this} object
+   */
+  public final Section withSectname(String value) {
+    if (this.sectname.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "sectname");
+    return new Section(
+        this,
+        this.offsetInBinary,
+        newValue,
+        this.segname,
+        this.addr,
+        this.size,
+        this.offset,
+        this.align,
+        this.reloff,
+        this.nreloc,
+        this.flags,
+        this.reserved1,
+        this.reserved2,
+        this.reserved3);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSection#getSegname() segname} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for segname
+   * @return A modified copy of the {@code this} object
+   */
+  public final Section withSegname(String value) {
+    if (this.segname.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "segname");
+    return new Section(
+        this,
+        this.offsetInBinary,
+        this.sectname,
+        newValue,
+        this.addr,
+        this.size,
+        this.offset,
+        this.align,
+        this.reloff,
+        this.nreloc,
+        this.flags,
+        this.reserved1,
+        this.reserved2,
+        this.reserved3);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSection#getAddr() addr} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for addr
+   * @return A modified copy of the {@code this} object
+   */
+  public final Section withAddr(UnsignedLong value) {
+    if (this.addr.equals(value)) return this;
+    UnsignedLong newValue = Objects.requireNonNull(value, "addr");
+    return new Section(
+        this,
+        this.offsetInBinary,
+        this.sectname,
+        this.segname,
+        newValue,
+        this.size,
+        this.offset,
+        this.align,
+        this.reloff,
+        this.nreloc,
+        this.flags,
+        this.reserved1,
+        this.reserved2,
+        this.reserved3);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSection#getSize() size} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for size
+   * @return A modified copy of the {@code this} object
+   */
+  public final Section withSize(UnsignedLong value) {
+    if (this.size.equals(value)) return this;
+    UnsignedLong newValue = Objects.requireNonNull(value, "size");
+    return new Section(
+        this,
+        this.offsetInBinary,
+        this.sectname,
+        this.segname,
+        this.addr,
+        newValue,
+        this.offset,
+        this.align,
+        this.reloff,
+        this.nreloc,
+        this.flags,
+        this.reserved1,
+        this.reserved2,
+        this.reserved3);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSection#getOffset() offset} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for offset
+   * @return A modified copy of the {@code this} object
+   */
+  public final Section withOffset(UnsignedInteger value) {
+    if (this.offset.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "offset");
+    return new Section(
+        this,
+        this.offsetInBinary,
+        this.sectname,
+        this.segname,
+        this.addr,
+        this.size,
+        newValue,
+        this.align,
+        this.reloff,
+        this.nreloc,
+        this.flags,
+        this.reserved1,
+        this.reserved2,
+        this.reserved3);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSection#getAlign() align} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for align
+   * @return A modified copy of the {@code this} object
+   */
+  public final Section withAlign(UnsignedInteger value) {
+    if (this.align.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "align");
+    return new Section(
+        this,
+        this.offsetInBinary,
+        this.sectname,
+        this.segname,
+        this.addr,
+        this.size,
+        this.offset,
+        newValue,
+        this.reloff,
+        this.nreloc,
+        this.flags,
+        this.reserved1,
+        this.reserved2,
+        this.reserved3);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSection#getReloff() reloff} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for reloff
+   * @return A modified copy of the {@code this} object
+   */
+  public final Section withReloff(UnsignedInteger value) {
+    if (this.reloff.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "reloff");
+    return new Section(
+        this,
+        this.offsetInBinary,
+        this.sectname,
+        this.segname,
+        this.addr,
+        this.size,
+        this.offset,
+        this.align,
+        newValue,
+        this.nreloc,
+        this.flags,
+        this.reserved1,
+        this.reserved2,
+        this.reserved3);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSection#getNreloc() nreloc} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for nreloc
+   * @return A modified copy of the {@code this} object
+   */
+  public final Section withNreloc(UnsignedInteger value) {
+    if (this.nreloc.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "nreloc");
+    return new Section(
+        this,
+        this.offsetInBinary,
+        this.sectname,
+        this.segname,
+        this.addr,
+        this.size,
+        this.offset,
+        this.align,
+        this.reloff,
+        newValue,
+        this.flags,
+        this.reserved1,
+        this.reserved2,
+        this.reserved3);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSection#getFlags() flags} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for flags
+   * @return A modified copy of the {@code this} object
+   */
+  public final Section withFlags(UnsignedInteger value) {
+    if (this.flags.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "flags");
+    return new Section(
+        this,
+        this.offsetInBinary,
+        this.sectname,
+        this.segname,
+        this.addr,
+        this.size,
+        this.offset,
+        this.align,
+        this.reloff,
+        this.nreloc,
+        newValue,
+        this.reserved1,
+        this.reserved2,
+        this.reserved3);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSection#getReserved1() reserved1} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for reserved1
+   * @return A modified copy of the {@code this} object
+   */
+  public final Section withReserved1(UnsignedInteger value) {
+    if (this.reserved1.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "reserved1");
+    return new Section(
+        this,
+        this.offsetInBinary,
+        this.sectname,
+        this.segname,
+        this.addr,
+        this.size,
+        this.offset,
+        this.align,
+        this.reloff,
+        this.nreloc,
+        this.flags,
+        newValue,
+        this.reserved2,
+        this.reserved3);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSection#getReserved2() reserved2} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for reserved2
+   * @return A modified copy of the {@code this} object
+   */
+  public final Section withReserved2(UnsignedInteger value) {
+    if (this.reserved2.equals(value)) return this;
+    UnsignedInteger newValue = Objects.requireNonNull(value, "reserved2");
+    return new Section(
+        this,
+        this.offsetInBinary,
+        this.sectname,
+        this.segname,
+        this.addr,
+        this.size,
+        this.offset,
+        this.align,
+        this.reloff,
+        this.nreloc,
+        this.flags,
+        this.reserved1,
+        newValue,
+        this.reserved3);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractSection#getReserved3() reserved3} attribute.
+   * @param value The value for reserved3
+   * @return A modified copy of {@code this} object
+   */
+  public final Section withReserved3(UnsignedInteger value) {
+    @Nullable UnsignedInteger newValue = Objects.requireNonNull(value, "reserved3");
+    if (Objects.equals(this.reserved3, newValue)) return this;
+    return new Section(
+        this,
+        this.offsetInBinary,
+        this.sectname,
+        this.segname,
+        this.addr,
+        this.size,
+        this.offset,
+        this.align,
+        this.reloff,
+        this.nreloc,
+        this.flags,
+        this.reserved1,
+        this.reserved2,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractSection#getReserved3() reserved3} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for reserved3
+   * @return A modified copy of {@code this} object
+   */
+  public final Section withReserved3(Optional<? extends UnsignedInteger> optional) {
+    @Nullable UnsignedInteger value = optional.orElse(null);
+    if (Objects.equals(this.reserved3, value)) return this;
+    return new Section(
+        this,
+        this.offsetInBinary,
+        this.sectname,
+        this.segname,
+        this.addr,
+        this.size,
+        this.offset,
+        this.align,
+        this.reloff,
+        this.nreloc,
+        this.flags,
+        this.reserved1,
+        this.reserved2,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code Section} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof Section
+        && equalTo((Section) another);
+  }
+
+  private boolean equalTo(Section another) {
+    return offsetInBinary == another.offsetInBinary
+        && sectname.equals(another.sectname)
+        && segname.equals(another.segname)
+        && addr.equals(another.addr)
+        && size.equals(another.size)
+        && offset.equals(another.offset)
+        && align.equals(another.align)
+        && reloff.equals(another.reloff)
+        && nreloc.equals(another.nreloc)
+        && flags.equals(another.flags)
+        && reserved1.equals(another.reserved1)
+        && reserved2.equals(another.reserved2)
+        && Objects.equals(reserved3, another.reserved3);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code offsetInBinary}, {@code sectname}, {@code segname}, {@code addr}, {@code size}, {@code offset}, {@code align}, {@code reloff}, {@code nreloc}, {@code flags}, {@code reserved1}, {@code reserved2}, {@code reserved3}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + offsetInBinary;
+    h += (h << 5) + sectname.hashCode();
+    h += (h << 5) + segname.hashCode();
+    h += (h << 5) + addr.hashCode();
+    h += (h << 5) + size.hashCode();
+    h += (h << 5) + offset.hashCode();
+    h += (h << 5) + align.hashCode();
+    h += (h << 5) + reloff.hashCode();
+    h += (h << 5) + nreloc.hashCode();
+    h += (h << 5) + flags.hashCode();
+    h += (h << 5) + reserved1.hashCode();
+    h += (h << 5) + reserved2.hashCode();
+    h += (h << 5) + Objects.hashCode(reserved3);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code Section} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("Section")
+        .omitNullValues()
+        .add("offsetInBinary", offsetInBinary)
+        .add("sectname", sectname)
+        .add("segname", segname)
+        .add("addr", addr)
+        .add("size", size)
+        .add("offset", offset)
+        .add("align", align)
+        .add("reloff", reloff)
+        .add("nreloc", nreloc)
+        .add("flags", flags)
+        .add("reserved1", reserved1)
+        .add("reserved2", reserved2)
+        .add("reserved3", reserved3)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code Section} instance.
+   * @param offsetInBinary The value for the {@code offsetInBinary} attribute
+   * @param sectname The value for the {@code sectname} attribute
+   * @param segname The value for the {@code segname} attribute
+   * @param addr The value for the {@code addr} attribute
+   * @param size The value for the {@code size} attribute
+   * @param offset The value for the {@code offset} attribute
+   * @param align The value for the {@code align} attribute
+   * @param reloff The value for the {@code reloff} attribute
+   * @param nreloc The value for the {@code nreloc} attribute
+   * @param flags The value for the {@code flags} attribute
+   * @param reserved1 The value for the {@code reserved1} attribute
+   * @param reserved2 The value for the {@code reserved2} attribute
+   * @param reserved3 The value for the {@code reserved3} attribute
+   * @return An immutable Section instance
+   */
+  public static Section of(int offsetInBinary, String sectname, String segname, UnsignedLong addr, UnsignedLong size, UnsignedInteger offset, UnsignedInteger align, UnsignedInteger reloff, UnsignedInteger nreloc, UnsignedInteger flags, UnsignedInteger reserved1, UnsignedInteger reserved2, Optional<? extends UnsignedInteger> reserved3) {
+    return new Section(offsetInBinary, sectname, segname, addr, size, offset, align, reloff, nreloc, flags, reserved1, reserved2, reserved3);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractSection} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable Section instance
+   */
+  static Section copyOf(AbstractSection instance) {
+    if (instance instanceof Section) {
+      return (Section) instance;
+    }
+    return Section.of(instance.getOffsetInBinary(), instance.getSectname(), instance.getSegname(), instance.getAddr(), instance.getSize(), instance.getOffset(), instance.getAlign(), instance.getReloff(), instance.getNreloc(), instance.getFlags(), instance.getReserved1(), instance.getReserved2(), instance.getReserved3());
+  }
+}
@@ -0,0 +1,111 @@
+package com.facebook.buck.macho;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractUnknownCommand}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code UnknownCommand.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractUnknownCommand"})
+@Immutable
+public final class UnknownCommand extends AbstractUnknownCommand {
+  private final LoadCommandCommonFields loadCommandCommonFields;
+
+  private UnknownCommand(LoadCommandCommonFields loadCommandCommonFields) {
+    this.loadCommandCommonFields = Objects.requireNonNull(loadCommandCommonFields, "loadCommandCommonFields");
+  }
+
+  private UnknownCommand(UnknownCommand original, LoadCommandCommonFields loadCommandCommonFields) {
+    this.loadCommandCommonFields = loadCommandCommonFields;
+  }
+
+  /**
+   * @return The value of the {@code loadCommandCommonFields} attribute
+   */
+  @Override
+  public LoadCommandCommonFields getLoadCommandCommonFields() {
+    return loadCommandCommonFields;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUnknownCommand#getLoadCommandCommonFields() loadCommandCommonFields} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for loadCommandCommonFields
+   * @return A modified copy of the {@code this} object
+   */
+  public final UnknownCommand withLoadCommandCommonFields(LoadCommandCommonFields value) {
+    if (this.loadCommandCommonFields == value) return this;
+    LoadCommandCommonFields newValue = Objects.requireNonNull(value, "loadCommandCommonFields");
+    return new UnknownCommand(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code UnknownCommand} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof UnknownCommand
+        && equalTo((UnknownCommand) another);
+  }
+
+  private boolean equalTo(UnknownCommand another) {
+    return loadCommandCommonFields.equals(another.loadCommandCommonFields);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code loadCommandCommonFields}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + loadCommandCommonFields.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code UnknownCommand} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("UnknownCommand")
+        .omitNullValues()
+        .add("loadCommandCommonFields", loadCommandCommonFields)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code UnknownCommand} instance.
+   * @param loadCommandCommonFields The value for the {@code loadCommandCommonFields} attribute
+   * @return An immutable UnknownCommand instance
+   */
+  public static UnknownCommand of(LoadCommandCommonFields loadCommandCommonFields) {
+    return new UnknownCommand(loadCommandCommonFields);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractUnknownCommand} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable UnknownCommand instance
+   */
+  static UnknownCommand copyOf(AbstractUnknownCommand instance) {
+    if (instance instanceof UnknownCommand) {
+      return (UnknownCommand) instance;
+    }
+    return UnknownCommand.of(instance.getLoadCommandCommonFields());
+  }
+}
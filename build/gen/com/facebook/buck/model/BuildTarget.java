@@ -0,0 +1,185 @@
+package com.facebook.buck.model;
+
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SortedSet;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractBuildTarget}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code BuildTarget.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildTarget"})
+@Immutable
+public final class BuildTarget extends AbstractBuildTarget {
+  private final UnflavoredBuildTarget unflavoredBuildTarget;
+  private final ImmutableSortedSet<Flavor> flavors;
+  private final String fullyQualifiedName;
+  private final int hashCode;
+
+  private BuildTarget(
+      UnflavoredBuildTarget unflavoredBuildTarget,
+      Iterable<? extends Flavor> flavors) {
+    this.unflavoredBuildTarget = Objects.requireNonNull(unflavoredBuildTarget, "unflavoredBuildTarget");
+    this.flavors = ImmutableSortedSet.copyOf(
+        Ordering.<Flavor>natural(),
+        flavors);
+    this.fullyQualifiedName = Objects.requireNonNull(super.getFullyQualifiedName(), "fullyQualifiedName");
+    this.hashCode = computeHashCode();
+  }
+
+  private BuildTarget(
+      BuildTarget original,
+      UnflavoredBuildTarget unflavoredBuildTarget,
+      ImmutableSortedSet<Flavor> flavors) {
+    this.unflavoredBuildTarget = unflavoredBuildTarget;
+    this.flavors = flavors;
+    this.fullyQualifiedName = Objects.requireNonNull(super.getFullyQualifiedName(), "fullyQualifiedName");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code unflavoredBuildTarget} attribute
+   */
+  @Override
+  public UnflavoredBuildTarget getUnflavoredBuildTarget() {
+    return unflavoredBuildTarget;
+  }
+
+  /**
+   * @return The value of the {@code flavors} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Flavor> getFlavors() {
+    return flavors;
+  }
+
+  /**
+   * If this build target is //third_party/java/guava:guava-latest, then this would return
+   * "//third_party/java/guava:guava-latest".
+   */
+  @Override
+  public String getFullyQualifiedName() {
+    return fullyQualifiedName;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildTarget#getUnflavoredBuildTarget() unflavoredBuildTarget} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for unflavoredBuildTarget
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildTarget withUnflavoredBuildTarget(UnflavoredBuildTarget value) {
+    if (this.unflavoredBuildTarget == value) return this;
+    UnflavoredBuildTarget newValue = Objects.requireNonNull(value, "unflavoredBuildTarget");
+    return validate(new BuildTarget(this, newValue, this.flavors));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractBuildTarget#getFlavors() flavors}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildTarget withFlavors(Flavor... elements) {
+    ImmutableSortedSet<Flavor> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<Flavor>natural(),
+        Arrays.asList(elements));
+    return validate(new BuildTarget(this, this.unflavoredBuildTarget, newValue));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractBuildTarget#getFlavors() flavors}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of flavors elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildTarget withFlavors(Iterable<? extends Flavor> elements) {
+    if (this.flavors == elements) return this;
+    ImmutableSortedSet<Flavor> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<Flavor>natural(),
+        elements);
+    return validate(new BuildTarget(this, this.unflavoredBuildTarget, newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildTarget} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildTarget
+        && equalTo((BuildTarget) another);
+  }
+
+  private boolean equalTo(BuildTarget another) {
+    if (hashCode != another.hashCode) return false;
+    return unflavoredBuildTarget.equals(another.unflavoredBuildTarget)
+        && flavors.equals(another.flavors);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code unflavoredBuildTarget}, {@code flavors}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int h = 5381;
+    h += (h << 5) + unflavoredBuildTarget.hashCode();
+    h += (h << 5) + flavors.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildTarget} instance.
+   * @param unflavoredBuildTarget The value for the {@code unflavoredBuildTarget} attribute
+   * @param flavors The value for the {@code flavors} attribute
+   * @return An immutable BuildTarget instance
+   */
+  public static BuildTarget of(UnflavoredBuildTarget unflavoredBuildTarget, SortedSet<Flavor> flavors) {
+    return of(unflavoredBuildTarget, (Iterable<? extends Flavor>) flavors);
+  }
+
+  /**
+   * Construct a new immutable {@code BuildTarget} instance.
+   * @param unflavoredBuildTarget The value for the {@code unflavoredBuildTarget} attribute
+   * @param flavors The value for the {@code flavors} attribute
+   * @return An immutable BuildTarget instance
+   */
+  public static BuildTarget of(UnflavoredBuildTarget unflavoredBuildTarget, Iterable<? extends Flavor> flavors) {
+    return validate(new BuildTarget(unflavoredBuildTarget, flavors));
+  }
+
+
+  private static BuildTarget validate(BuildTarget instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBuildTarget} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildTarget instance
+   */
+  static BuildTarget copyOf(AbstractBuildTarget instance) {
+    if (instance instanceof BuildTarget) {
+      return (BuildTarget) instance;
+    }
+    return BuildTarget.of(instance.getUnflavoredBuildTarget(), instance.getFlavors());
+  }
+}
@@ -0,0 +1,239 @@
+package com.facebook.buck.model;
+
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A build target in the form of
+ * <pre>cell//path:rule</pre>
+ * .
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractUnflavoredBuildTarget"})
+@Immutable
+public final class UnflavoredBuildTarget extends AbstractUnflavoredBuildTarget {
+  private final Path cellPath;
+  private final @Nullable String cell;
+  private final String baseName;
+  private final String shortName;
+
+  private UnflavoredBuildTarget(UnflavoredBuildTarget.Builder builder) {
+    this.cellPath = builder.cellPath;
+    this.cell = builder.cell;
+    this.baseName = builder.baseName;
+    this.shortName = builder.shortName;
+  }
+
+  /**
+   * @return The value of the {@code cellPath} attribute
+   */
+  @Override
+  public Path getCellPath() {
+    return cellPath;
+  }
+
+  /**
+   * @return The value of the {@code cell} attribute
+   */
+  @Override
+  public Optional<String> getCell() {
+    return Optional.ofNullable(cell);
+  }
+
+  /**
+   * If this build target were //third_party/java/guava:guava-latest, then this would return
+   * "//third_party/java/guava".
+   */
+  @Override
+  public String getBaseName() {
+    return baseName;
+  }
+
+  /**
+   * @return The value of the {@code shortName} attribute
+   */
+  @Override
+  public String getShortName() {
+    return shortName;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code UnflavoredBuildTarget} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof UnflavoredBuildTarget
+        && equalTo((UnflavoredBuildTarget) another);
+  }
+
+  private boolean equalTo(UnflavoredBuildTarget another) {
+    return cellPath.equals(another.cellPath)
+        && Objects.equals(cell, another.cell)
+        && baseName.equals(another.baseName)
+        && shortName.equals(another.shortName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cellPath}, {@code cell}, {@code baseName}, {@code shortName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + cellPath.hashCode();
+    h += (h << 5) + Objects.hashCode(cell);
+    h += (h << 5) + baseName.hashCode();
+    h += (h << 5) + shortName.hashCode();
+    return h;
+  }
+
+
+  private static UnflavoredBuildTarget validate(UnflavoredBuildTarget instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Builds instances of type {@link UnflavoredBuildTarget UnflavoredBuildTarget}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_CELL_PATH = 0x1L;
+    private static final long INIT_BIT_BASE_NAME = 0x2L;
+    private static final long INIT_BIT_SHORT_NAME = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable Path cellPath;
+    private @Nullable String cell;
+    private @Nullable String baseName;
+    private @Nullable String shortName;
+
+    /**
+     * Creates a builder for {@link UnflavoredBuildTarget UnflavoredBuildTarget} instances.
+     */
+    public Builder() {
+      if (!(this instanceof AbstractUnflavoredBuildTarget.Builder)) {
+        throw new UnsupportedOperationException("Use: new AbstractUnflavoredBuildTarget.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code UnflavoredBuildTarget} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final AbstractUnflavoredBuildTarget.Builder from(UnflavoredBuildTarget instance) {
+      return from((AbstractUnflavoredBuildTarget) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractUnflavoredBuildTarget} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final AbstractUnflavoredBuildTarget.Builder from(AbstractUnflavoredBuildTarget instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCellPath(instance.getCellPath());
+      Optional<String> cellOptional = instance.getCell();
+      if (cellOptional.isPresent()) {
+        setCell(cellOptional);
+      }
+      setBaseName(instance.getBaseName());
+      setShortName(instance.getShortName());
+      return (AbstractUnflavoredBuildTarget.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractUnflavoredBuildTarget#getCellPath() cellPath} attribute.
+     * @param cellPath The value for cellPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final AbstractUnflavoredBuildTarget.Builder setCellPath(Path cellPath) {
+      this.cellPath = Objects.requireNonNull(cellPath, "cellPath");
+      initBits &= ~INIT_BIT_CELL_PATH;
+      return (AbstractUnflavoredBuildTarget.Builder) this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractUnflavoredBuildTarget#getCell() cell} to cell.
+     * @param cell The value for cell
+     * @return {@code this} builder for chained invocation
+     */
+    public final AbstractUnflavoredBuildTarget.Builder setCell(String cell) {
+      this.cell = Objects.requireNonNull(cell, "cell");
+      return (AbstractUnflavoredBuildTarget.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractUnflavoredBuildTarget#getCell() cell} to cell.
+     * @param cell The value for cell
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final AbstractUnflavoredBuildTarget.Builder setCell(Optional<String> cell) {
+      this.cell = cell.orElse(null);
+      return (AbstractUnflavoredBuildTarget.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractUnflavoredBuildTarget#getBaseName() baseName} attribute.
+     * @param baseName The value for baseName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final AbstractUnflavoredBuildTarget.Builder setBaseName(String baseName) {
+      this.baseName = Objects.requireNonNull(baseName, "baseName");
+      initBits &= ~INIT_BIT_BASE_NAME;
+      return (AbstractUnflavoredBuildTarget.Builder) this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractUnflavoredBuildTarget#getShortName() shortName} attribute.
+     * @param shortName The value for shortName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final AbstractUnflavoredBuildTarget.Builder setShortName(String shortName) {
+      this.shortName = Objects.requireNonNull(shortName, "shortName");
+      initBits &= ~INIT_BIT_SHORT_NAME;
+      return (AbstractUnflavoredBuildTarget.Builder) this;
+    }
+
+
+    /**
+     * Builds a new {@link UnflavoredBuildTarget UnflavoredBuildTarget}.
+     * @return An immutable instance of UnflavoredBuildTarget
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public UnflavoredBuildTarget build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return UnflavoredBuildTarget.validate(new UnflavoredBuildTarget(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CELL_PATH) != 0) attributes.add("cellPath");
+      if ((initBits & INIT_BIT_BASE_NAME) != 0) attributes.add("baseName");
+      if ((initBits & INIT_BIT_SHORT_NAME) != 0) attributes.add("shortName");
+      return "Cannot build UnflavoredBuildTarget, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,387 @@
+package com.facebook.buck.model.macros;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractMacroMatchResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code MacroMatchResult.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractMacroMatchResult"})
+@Immutable
+public final class MacroMatchResult implements AbstractMacroMatchResult {
+  private final String macroType;
+  private final ImmutableList<String> macroInput;
+  private final int startIndex;
+  private final int endIndex;
+  private final boolean escaped;
+
+  private MacroMatchResult(
+      String macroType,
+      ImmutableList<String> macroInput,
+      int startIndex,
+      int endIndex,
+      boolean escaped) {
+    this.macroType = macroType;
+    this.macroInput = macroInput;
+    this.startIndex = startIndex;
+    this.endIndex = endIndex;
+    this.escaped = escaped;
+  }
+
+  /**
+   * @return The value of the {@code macroType} attribute
+   */
+  @Override
+  public String getMacroType() {
+    return macroType;
+  }
+
+  /**
+   * @return The value of the {@code macroInput} attribute
+   */
+  @Override
+  public ImmutableList<String> getMacroInput() {
+    return macroInput;
+  }
+
+  /**
+   * @return The value of the {@code startIndex} attribute
+   */
+  @Override
+  public int getStartIndex() {
+    return startIndex;
+  }
+
+  /**
+   * @return The value of the {@code endIndex} attribute
+   */
+  @Override
+  public int getEndIndex() {
+    return endIndex;
+  }
+
+  /**
+   * @return The value of the {@code escaped} attribute
+   */
+  @Override
+  public boolean isEscaped() {
+    return escaped;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractMacroMatchResult#getMacroType() macroType} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for macroType
+   * @return A modified copy of the {@code this} object
+   */
+  public final MacroMatchResult withMacroType(String value) {
+    if (this.macroType.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "macroType");
+    return new MacroMatchResult(newValue, this.macroInput, this.startIndex, this.endIndex, this.escaped);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractMacroMatchResult#getMacroInput() macroInput}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final MacroMatchResult withMacroInput(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new MacroMatchResult(this.macroType, newValue, this.startIndex, this.endIndex, this.escaped);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractMacroMatchResult#getMacroInput() macroInput}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of macroInput elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final MacroMatchResult withMacroInput(Iterable<String> elements) {
+    if (this.macroInput == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new MacroMatchResult(this.macroType, newValue, this.startIndex, this.endIndex, this.escaped);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractMacroMatchResult#getStartIndex() startIndex} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for startIndex
+   * @return A modified copy of the {@code this} object
+   */
+  public final MacroMatchResult withStartIndex(int value) {
+    if (this.startIndex == value) return this;
+    return new MacroMatchResult(this.macroType, this.macroInput, value, this.endIndex, this.escaped);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractMacroMatchResult#getEndIndex() endIndex} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for endIndex
+   * @return A modified copy of the {@code this} object
+   */
+  public final MacroMatchResult withEndIndex(int value) {
+    if (this.endIndex == value) return this;
+    return new MacroMatchResult(this.macroType, this.macroInput, this.startIndex, value, this.escaped);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractMacroMatchResult#isEscaped() escaped} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for escaped
+   * @return A modified copy of the {@code this} object
+   */
+  public final MacroMatchResult withEscaped(boolean value) {
+    if (this.escaped == value) return this;
+    return new MacroMatchResult(this.macroType, this.macroInput, this.startIndex, this.endIndex, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code MacroMatchResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof MacroMatchResult
+        && equalTo((MacroMatchResult) another);
+  }
+
+  private boolean equalTo(MacroMatchResult another) {
+    return macroType.equals(another.macroType)
+        && macroInput.equals(another.macroInput)
+        && startIndex == another.startIndex
+        && endIndex == another.endIndex
+        && escaped == another.escaped;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code macroType}, {@code macroInput}, {@code startIndex}, {@code endIndex}, {@code escaped}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + macroType.hashCode();
+    h += (h << 5) + macroInput.hashCode();
+    h += (h << 5) + startIndex;
+    h += (h << 5) + endIndex;
+    h += (h << 5) + Booleans.hashCode(escaped);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MacroMatchResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MacroMatchResult")
+        .omitNullValues()
+        .add("macroType", macroType)
+        .add("macroInput", macroInput)
+        .add("startIndex", startIndex)
+        .add("endIndex", endIndex)
+        .add("escaped", escaped)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractMacroMatchResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable MacroMatchResult instance
+   */
+  static MacroMatchResult copyOf(AbstractMacroMatchResult instance) {
+    if (instance instanceof MacroMatchResult) {
+      return (MacroMatchResult) instance;
+    }
+    return MacroMatchResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link MacroMatchResult MacroMatchResult}.
+   * @return A new MacroMatchResult builder
+   */
+  public static MacroMatchResult.Builder builder() {
+    return new MacroMatchResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link MacroMatchResult MacroMatchResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_MACRO_TYPE = 0x1L;
+    private static final long INIT_BIT_START_INDEX = 0x2L;
+    private static final long INIT_BIT_END_INDEX = 0x4L;
+    private static final long INIT_BIT_ESCAPED = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable String macroType;
+    private ImmutableList.Builder<String> macroInput = ImmutableList.builder();
+    private int startIndex;
+    private int endIndex;
+    private boolean escaped;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code MacroMatchResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(MacroMatchResult instance) {
+      return from((AbstractMacroMatchResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractMacroMatchResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractMacroMatchResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setMacroType(instance.getMacroType());
+      addAllMacroInput(instance.getMacroInput());
+      setStartIndex(instance.getStartIndex());
+      setEndIndex(instance.getEndIndex());
+      setEscaped(instance.isEscaped());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractMacroMatchResult#getMacroType() macroType} attribute.
+     * @param macroType The value for macroType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMacroType(String macroType) {
+      this.macroType = Objects.requireNonNull(macroType, "macroType");
+      initBits &= ~INIT_BIT_MACRO_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractMacroMatchResult#getMacroInput() macroInput} list.
+     * @param element A macroInput element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addMacroInput(String element) {
+      this.macroInput.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractMacroMatchResult#getMacroInput() macroInput} list.
+     * @param elements An array of macroInput elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addMacroInput(String... elements) {
+      this.macroInput.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractMacroMatchResult#getMacroInput() macroInput} list.
+     * @param elements An iterable of macroInput elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMacroInput(Iterable<String> elements) {
+      this.macroInput = ImmutableList.builder();
+      return addAllMacroInput(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractMacroMatchResult#getMacroInput() macroInput} list.
+     * @param elements An iterable of macroInput elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllMacroInput(Iterable<String> elements) {
+      this.macroInput.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractMacroMatchResult#getStartIndex() startIndex} attribute.
+     * @param startIndex The value for startIndex 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStartIndex(int startIndex) {
+      this.startIndex = startIndex;
+      initBits &= ~INIT_BIT_START_INDEX;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractMacroMatchResult#getEndIndex() endIndex} attribute.
+     * @param endIndex The value for endIndex 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEndIndex(int endIndex) {
+      this.endIndex = endIndex;
+      initBits &= ~INIT_BIT_END_INDEX;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractMacroMatchResult#isEscaped() escaped} attribute.
+     * @param escaped The value for escaped 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEscaped(boolean escaped) {
+      this.escaped = escaped;
+      initBits &= ~INIT_BIT_ESCAPED;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link MacroMatchResult MacroMatchResult}.
+     * @return An immutable instance of MacroMatchResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public MacroMatchResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new MacroMatchResult(macroType, macroInput.build(), startIndex, endIndex, escaped);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_MACRO_TYPE) != 0) attributes.add("macroType");
+      if ((initBits & INIT_BIT_START_INDEX) != 0) attributes.add("startIndex");
+      if ((initBits & INIT_BIT_END_INDEX) != 0) attributes.add("endIndex");
+      if ((initBits & INIT_BIT_ESCAPED) != 0) attributes.add("escaped");
+      return "Cannot build MacroMatchResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
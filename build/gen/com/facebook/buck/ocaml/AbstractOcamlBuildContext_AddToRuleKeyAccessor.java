@@ -0,0 +1,43 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.ocaml;
+
+public final class AbstractOcamlBuildContext_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("getFlags()", "getInput()", "getOcamlDepTool()", "getOcamlCompiler()", "getOcamlDebug()", "getYaccCompiler()", "getLexCompiler()", "getOcamlBytecodeCompiler()"));
+
+  @java.lang.Override
+  public java.lang.Class<?> getTargetClass() {
+    return com.facebook.buck.ocaml.AbstractOcamlBuildContext.class;
+  }
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        return ((com.facebook.buck.ocaml.AbstractOcamlBuildContext) instance).getFlags();
+      case 1:
+        return ((com.facebook.buck.ocaml.AbstractOcamlBuildContext) instance).getInput();
+      case 2:
+        return ((com.facebook.buck.ocaml.AbstractOcamlBuildContext) instance).getOcamlDepTool();
+      case 3:
+        return ((com.facebook.buck.ocaml.AbstractOcamlBuildContext) instance).getOcamlCompiler();
+      case 4:
+        return ((com.facebook.buck.ocaml.AbstractOcamlBuildContext) instance).getOcamlDebug();
+      case 5:
+        return ((com.facebook.buck.ocaml.AbstractOcamlBuildContext) instance).getYaccCompiler();
+      case 6:
+        return ((com.facebook.buck.ocaml.AbstractOcamlBuildContext) instance).getLexCompiler();
+      case 7:
+        return ((com.facebook.buck.ocaml.AbstractOcamlBuildContext) instance).getOcamlBytecodeCompiler();
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+}
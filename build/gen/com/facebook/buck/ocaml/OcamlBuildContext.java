@@ -0,0 +1,2711 @@
+package com.facebook.buck.ocaml;
+
+import com.facebook.buck.cxx.CxxPreprocessorInput;
+import com.facebook.buck.cxx.toolchain.Preprocessor;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkableInput;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.model.UnflavoredBuildTarget;
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.SourcePathResolver;
+import com.facebook.buck.rules.Tool;
+import com.facebook.buck.rules.args.Arg;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * OCaml build context
+ * <p>OCaml has two build modes, "native" (ocamlopt) and "bytecode" (ocamlc), and that terminology
+ * is used throughout this file -- not to be confused with the "native" terminology used in
+ * com.facebook.buck.cxx.toolchain.nativelink.NativeLinkableInput.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractOcamlBuildContext"})
+@Immutable
+public final class OcamlBuildContext extends AbstractOcamlBuildContext {
+  private final UnflavoredBuildTarget buildTarget;
+  private final ProjectFilesystem projectFilesystem;
+  private final SourcePathResolver sourcePathResolver;
+  private final boolean library;
+  private final ImmutableList<Arg> flags;
+  private final ImmutableList<SourcePath> input;
+  private final ImmutableList<String> nativeIncludes;
+  private final ImmutableList<String> bytecodeIncludes;
+  private final NativeLinkableInput nativeLinkableInput;
+  private final NativeLinkableInput bytecodeLinkableInput;
+  private final NativeLinkableInput cLinkableInput;
+  private final ImmutableList<OcamlLibrary> ocamlInput;
+  private final CxxPreprocessorInput cxxPreprocessorInput;
+  private final ImmutableSortedSet<BuildRule> nativeCompileDeps;
+  private final ImmutableSortedSet<BuildRule> bytecodeCompileDeps;
+  private final ImmutableSortedSet<BuildRule> bytecodeLinkDeps;
+  private final @Nullable Tool ocamlDepTool;
+  private final @Nullable Tool ocamlCompiler;
+  private final @Nullable Tool ocamlDebug;
+  private final @Nullable Tool yaccCompiler;
+  private final @Nullable Tool lexCompiler;
+  private final @Nullable Tool ocamlBytecodeCompiler;
+  private final ImmutableList<String> cFlags;
+  private final @Nullable String ocamlInteropIncludesDir;
+  private final ImmutableList<String> ldFlags;
+  private final Preprocessor cPreprocessor;
+
+  private OcamlBuildContext(
+      UnflavoredBuildTarget buildTarget,
+      ProjectFilesystem projectFilesystem,
+      SourcePathResolver sourcePathResolver,
+      boolean library,
+      ImmutableList<Arg> flags,
+      ImmutableList<SourcePath> input,
+      ImmutableList<String> nativeIncludes,
+      ImmutableList<String> bytecodeIncludes,
+      NativeLinkableInput nativeLinkableInput,
+      NativeLinkableInput bytecodeLinkableInput,
+      NativeLinkableInput cLinkableInput,
+      ImmutableList<OcamlLibrary> ocamlInput,
+      CxxPreprocessorInput cxxPreprocessorInput,
+      ImmutableSortedSet<BuildRule> nativeCompileDeps,
+      ImmutableSortedSet<BuildRule> bytecodeCompileDeps,
+      ImmutableSortedSet<BuildRule> bytecodeLinkDeps,
+      @Nullable Tool ocamlDepTool,
+      @Nullable Tool ocamlCompiler,
+      @Nullable Tool ocamlDebug,
+      @Nullable Tool yaccCompiler,
+      @Nullable Tool lexCompiler,
+      @Nullable Tool ocamlBytecodeCompiler,
+      ImmutableList<String> cFlags,
+      @Nullable String ocamlInteropIncludesDir,
+      ImmutableList<String> ldFlags,
+      Preprocessor cPreprocessor) {
+    this.buildTarget = buildTarget;
+    this.projectFilesystem = projectFilesystem;
+    this.sourcePathResolver = sourcePathResolver;
+    this.library = library;
+    this.flags = flags;
+    this.input = input;
+    this.nativeIncludes = nativeIncludes;
+    this.bytecodeIncludes = bytecodeIncludes;
+    this.nativeLinkableInput = nativeLinkableInput;
+    this.bytecodeLinkableInput = bytecodeLinkableInput;
+    this.cLinkableInput = cLinkableInput;
+    this.ocamlInput = ocamlInput;
+    this.cxxPreprocessorInput = cxxPreprocessorInput;
+    this.nativeCompileDeps = nativeCompileDeps;
+    this.bytecodeCompileDeps = bytecodeCompileDeps;
+    this.bytecodeLinkDeps = bytecodeLinkDeps;
+    this.ocamlDepTool = ocamlDepTool;
+    this.ocamlCompiler = ocamlCompiler;
+    this.ocamlDebug = ocamlDebug;
+    this.yaccCompiler = yaccCompiler;
+    this.lexCompiler = lexCompiler;
+    this.ocamlBytecodeCompiler = ocamlBytecodeCompiler;
+    this.cFlags = cFlags;
+    this.ocamlInteropIncludesDir = ocamlInteropIncludesDir;
+    this.ldFlags = ldFlags;
+    this.cPreprocessor = cPreprocessor;
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public UnflavoredBuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code sourcePathResolver} attribute
+   */
+  @Override
+  public SourcePathResolver getSourcePathResolver() {
+    return sourcePathResolver;
+  }
+
+  /**
+   * @return The value of the {@code library} attribute
+   */
+  @Override
+  public boolean isLibrary() {
+    return library;
+  }
+
+  /**
+   * @return The value of the {@code flags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getFlags() {
+    return flags;
+  }
+
+  /**
+   * @return The value of the {@code input} attribute
+   */
+  @Override
+  public ImmutableList<SourcePath> getInput() {
+    return input;
+  }
+
+  /**
+   * @return The value of the {@code nativeIncludes} attribute
+   */
+  @Override
+  public ImmutableList<String> getNativeIncludes() {
+    return nativeIncludes;
+  }
+
+  /**
+   * @return The value of the {@code bytecodeIncludes} attribute
+   */
+  @Override
+  public ImmutableList<String> getBytecodeIncludes() {
+    return bytecodeIncludes;
+  }
+
+  /**
+   *Inputs for the native (ocamlopt) build 
+   */
+  @Override
+  public NativeLinkableInput getNativeLinkableInput() {
+    return nativeLinkableInput;
+  }
+
+  /**
+   *Inputs for the bytecode (ocamlc) build 
+   */
+  @Override
+  public NativeLinkableInput getBytecodeLinkableInput() {
+    return bytecodeLinkableInput;
+  }
+
+  /**
+   *Inputs for the C compiler (both builds) 
+   */
+  @Override
+  public NativeLinkableInput getCLinkableInput() {
+    return cLinkableInput;
+  }
+
+  /**
+   * @return The value of the {@code ocamlInput} attribute
+   */
+  @Override
+  public ImmutableList<OcamlLibrary> getOcamlInput() {
+    return ocamlInput;
+  }
+
+  /**
+   * @return The value of the {@code cxxPreprocessorInput} attribute
+   */
+  @Override
+  public CxxPreprocessorInput getCxxPreprocessorInput() {
+    return cxxPreprocessorInput;
+  }
+
+  /**
+   * @return The value of the {@code nativeCompileDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getNativeCompileDeps() {
+    return nativeCompileDeps;
+  }
+
+  /**
+   * @return The value of the {@code bytecodeCompileDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getBytecodeCompileDeps() {
+    return bytecodeCompileDeps;
+  }
+
+  /**
+   * @return The value of the {@code bytecodeLinkDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getBytecodeLinkDeps() {
+    return bytecodeLinkDeps;
+  }
+
+  /**
+   * @return The value of the {@code ocamlDepTool} attribute
+   */
+  @Override
+  public Optional<Tool> getOcamlDepTool() {
+    return Optional.ofNullable(ocamlDepTool);
+  }
+
+  /**
+   * @return The value of the {@code ocamlCompiler} attribute
+   */
+  @Override
+  public Optional<Tool> getOcamlCompiler() {
+    return Optional.ofNullable(ocamlCompiler);
+  }
+
+  /**
+   * @return The value of the {@code ocamlDebug} attribute
+   */
+  @Override
+  public Optional<Tool> getOcamlDebug() {
+    return Optional.ofNullable(ocamlDebug);
+  }
+
+  /**
+   * @return The value of the {@code yaccCompiler} attribute
+   */
+  @Override
+  public Optional<Tool> getYaccCompiler() {
+    return Optional.ofNullable(yaccCompiler);
+  }
+
+  /**
+   * @return The value of the {@code lexCompiler} attribute
+   */
+  @Override
+  public Optional<Tool> getLexCompiler() {
+    return Optional.ofNullable(lexCompiler);
+  }
+
+  /**
+   * @return The value of the {@code ocamlBytecodeCompiler} attribute
+   */
+  @Override
+  public Optional<Tool> getOcamlBytecodeCompiler() {
+    return Optional.ofNullable(ocamlBytecodeCompiler);
+  }
+
+  /**
+   * @return The value of the {@code cFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCFlags() {
+    return cFlags;
+  }
+
+  /**
+   * @return The value of the {@code ocamlInteropIncludesDir} attribute
+   */
+  @Override
+  public Optional<String> getOcamlInteropIncludesDir() {
+    return Optional.ofNullable(ocamlInteropIncludesDir);
+  }
+
+  /**
+   * @return The value of the {@code ldFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getLdFlags() {
+    return ldFlags;
+  }
+
+  /**
+   * @return The value of the {@code cPreprocessor} attribute
+   */
+  @Override
+  public Preprocessor getCPreprocessor() {
+    return cPreprocessor;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractOcamlBuildContext#getBuildTarget() buildTarget} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildTarget
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlBuildContext withBuildTarget(UnflavoredBuildTarget value) {
+    if (this.buildTarget == value) return this;
+    UnflavoredBuildTarget newValue = Objects.requireNonNull(value, "buildTarget");
+    return new OcamlBuildContext(
+        newValue,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractOcamlBuildContext#getProjectFilesystem() projectFilesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectFilesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlBuildContext withProjectFilesystem(ProjectFilesystem value) {
+    if (this.projectFilesystem == value) return this;
+    ProjectFilesystem newValue = Objects.requireNonNull(value, "projectFilesystem");
+    return new OcamlBuildContext(
+        this.buildTarget,
+        newValue,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractOcamlBuildContext#getSourcePathResolver() sourcePathResolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sourcePathResolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlBuildContext withSourcePathResolver(SourcePathResolver value) {
+    if (this.sourcePathResolver == value) return this;
+    SourcePathResolver newValue = Objects.requireNonNull(value, "sourcePathResolver");
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        newValue,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractOcamlBuildContext#isLibrary() library} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for library
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlBuildContext withLibrary(boolean value) {
+    if (this.library == value) return this;
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        value,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlBuildContext#getFlags() flags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withFlags(Arg... elements) {
+    ImmutableList<Arg> newValue = ImmutableList.copyOf(elements);
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        newValue,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlBuildContext#getFlags() flags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of flags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withFlags(Iterable<? extends Arg> elements) {
+    if (this.flags == elements) return this;
+    ImmutableList<Arg> newValue = ImmutableList.copyOf(elements);
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        newValue,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlBuildContext#getInput() input}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withInput(SourcePath... elements) {
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        newValue,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlBuildContext#getInput() input}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of input elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withInput(Iterable<? extends SourcePath> elements) {
+    if (this.input == elements) return this;
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        newValue,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlBuildContext#getNativeIncludes() nativeIncludes}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withNativeIncludes(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        newValue,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlBuildContext#getNativeIncludes() nativeIncludes}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of nativeIncludes elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withNativeIncludes(Iterable<String> elements) {
+    if (this.nativeIncludes == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        newValue,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlBuildContext#getBytecodeIncludes() bytecodeIncludes}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withBytecodeIncludes(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        newValue,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlBuildContext#getBytecodeIncludes() bytecodeIncludes}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of bytecodeIncludes elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withBytecodeIncludes(Iterable<String> elements) {
+    if (this.bytecodeIncludes == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        newValue,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractOcamlBuildContext#getNativeLinkableInput() nativeLinkableInput} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for nativeLinkableInput
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlBuildContext withNativeLinkableInput(NativeLinkableInput value) {
+    if (this.nativeLinkableInput == value) return this;
+    NativeLinkableInput newValue = Objects.requireNonNull(value, "nativeLinkableInput");
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        newValue,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractOcamlBuildContext#getBytecodeLinkableInput() bytecodeLinkableInput} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for bytecodeLinkableInput
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlBuildContext withBytecodeLinkableInput(NativeLinkableInput value) {
+    if (this.bytecodeLinkableInput == value) return this;
+    NativeLinkableInput newValue = Objects.requireNonNull(value, "bytecodeLinkableInput");
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        newValue,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractOcamlBuildContext#getCLinkableInput() cLinkableInput} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cLinkableInput
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlBuildContext withCLinkableInput(NativeLinkableInput value) {
+    if (this.cLinkableInput == value) return this;
+    NativeLinkableInput newValue = Objects.requireNonNull(value, "cLinkableInput");
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        newValue,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlBuildContext#getOcamlInput() ocamlInput}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withOcamlInput(OcamlLibrary... elements) {
+    ImmutableList<OcamlLibrary> newValue = ImmutableList.copyOf(elements);
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        newValue,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlBuildContext#getOcamlInput() ocamlInput}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of ocamlInput elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withOcamlInput(Iterable<? extends OcamlLibrary> elements) {
+    if (this.ocamlInput == elements) return this;
+    ImmutableList<OcamlLibrary> newValue = ImmutableList.copyOf(elements);
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        newValue,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractOcamlBuildContext#getCxxPreprocessorInput() cxxPreprocessorInput} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cxxPreprocessorInput
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlBuildContext withCxxPreprocessorInput(CxxPreprocessorInput value) {
+    if (this.cxxPreprocessorInput == value) return this;
+    CxxPreprocessorInput newValue = Objects.requireNonNull(value, "cxxPreprocessorInput");
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        newValue,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractOcamlBuildContext#getNativeCompileDeps() nativeCompileDeps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for nativeCompileDeps
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlBuildContext withNativeCompileDeps(ImmutableSortedSet<BuildRule> value) {
+    if (this.nativeCompileDeps == value) return this;
+    ImmutableSortedSet<BuildRule> newValue = Objects.requireNonNull(value, "nativeCompileDeps");
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        newValue,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractOcamlBuildContext#getBytecodeCompileDeps() bytecodeCompileDeps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for bytecodeCompileDeps
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlBuildContext withBytecodeCompileDeps(ImmutableSortedSet<BuildRule> value) {
+    if (this.bytecodeCompileDeps == value) return this;
+    ImmutableSortedSet<BuildRule> newValue = Objects.requireNonNull(value, "bytecodeCompileDeps");
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        newValue,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractOcamlBuildContext#getBytecodeLinkDeps() bytecodeLinkDeps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for bytecodeLinkDeps
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlBuildContext withBytecodeLinkDeps(ImmutableSortedSet<BuildRule> value) {
+    if (this.bytecodeLinkDeps == value) return this;
+    ImmutableSortedSet<BuildRule> newValue = Objects.requireNonNull(value, "bytecodeLinkDeps");
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        newValue,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractOcamlBuildContext#getOcamlDepTool() ocamlDepTool} attribute.
+   * @param value The value for ocamlDepTool
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withOcamlDepTool(Tool value) {
+    @Nullable Tool newValue = Objects.requireNonNull(value, "ocamlDepTool");
+    if (this.ocamlDepTool == newValue) return this;
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        newValue,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractOcamlBuildContext#getOcamlDepTool() ocamlDepTool} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for ocamlDepTool
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withOcamlDepTool(Optional<? extends Tool> optional) {
+    @Nullable Tool value = optional.orElse(null);
+    if (this.ocamlDepTool == value) return this;
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        value,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractOcamlBuildContext#getOcamlCompiler() ocamlCompiler} attribute.
+   * @param value The value for ocamlCompiler
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withOcamlCompiler(Tool value) {
+    @Nullable Tool newValue = Objects.requireNonNull(value, "ocamlCompiler");
+    if (this.ocamlCompiler == newValue) return this;
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        newValue,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractOcamlBuildContext#getOcamlCompiler() ocamlCompiler} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for ocamlCompiler
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withOcamlCompiler(Optional<? extends Tool> optional) {
+    @Nullable Tool value = optional.orElse(null);
+    if (this.ocamlCompiler == value) return this;
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        value,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractOcamlBuildContext#getOcamlDebug() ocamlDebug} attribute.
+   * @param value The value for ocamlDebug
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withOcamlDebug(Tool value) {
+    @Nullable Tool newValue = Objects.requireNonNull(value, "ocamlDebug");
+    if (this.ocamlDebug == newValue) return this;
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        newValue,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractOcamlBuildContext#getOcamlDebug() ocamlDebug} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for ocamlDebug
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withOcamlDebug(Optional<? extends Tool> optional) {
+    @Nullable Tool value = optional.orElse(null);
+    if (this.ocamlDebug == value) return this;
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        value,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractOcamlBuildContext#getYaccCompiler() yaccCompiler} attribute.
+   * @param value The value for yaccCompiler
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withYaccCompiler(Tool value) {
+    @Nullable Tool newValue = Objects.requireNonNull(value, "yaccCompiler");
+    if (this.yaccCompiler == newValue) return this;
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        newValue,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractOcamlBuildContext#getYaccCompiler() yaccCompiler} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for yaccCompiler
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withYaccCompiler(Optional<? extends Tool> optional) {
+    @Nullable Tool value = optional.orElse(null);
+    if (this.yaccCompiler == value) return this;
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        value,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractOcamlBuildContext#getLexCompiler() lexCompiler} attribute.
+   * @param value The value for lexCompiler
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withLexCompiler(Tool value) {
+    @Nullable Tool newValue = Objects.requireNonNull(value, "lexCompiler");
+    if (this.lexCompiler == newValue) return this;
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        newValue,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractOcamlBuildContext#getLexCompiler() lexCompiler} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for lexCompiler
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withLexCompiler(Optional<? extends Tool> optional) {
+    @Nullable Tool value = optional.orElse(null);
+    if (this.lexCompiler == value) return this;
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        value,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractOcamlBuildContext#getOcamlBytecodeCompiler() ocamlBytecodeCompiler} attribute.
+   * @param value The value for ocamlBytecodeCompiler
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withOcamlBytecodeCompiler(Tool value) {
+    @Nullable Tool newValue = Objects.requireNonNull(value, "ocamlBytecodeCompiler");
+    if (this.ocamlBytecodeCompiler == newValue) return this;
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        newValue,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractOcamlBuildContext#getOcamlBytecodeCompiler() ocamlBytecodeCompiler} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for ocamlBytecodeCompiler
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withOcamlBytecodeCompiler(Optional<? extends Tool> optional) {
+    @Nullable Tool value = optional.orElse(null);
+    if (this.ocamlBytecodeCompiler == value) return this;
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        value,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlBuildContext#getCFlags() cFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withCFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        newValue,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlBuildContext#getCFlags() cFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withCFlags(Iterable<String> elements) {
+    if (this.cFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        newValue,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractOcamlBuildContext#getOcamlInteropIncludesDir() ocamlInteropIncludesDir} attribute.
+   * @param value The value for ocamlInteropIncludesDir
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withOcamlInteropIncludesDir(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "ocamlInteropIncludesDir");
+    if (Objects.equals(this.ocamlInteropIncludesDir, newValue)) return this;
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        newValue,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractOcamlBuildContext#getOcamlInteropIncludesDir() ocamlInteropIncludesDir} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for ocamlInteropIncludesDir
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withOcamlInteropIncludesDir(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.ocamlInteropIncludesDir, value)) return this;
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        value,
+        this.ldFlags,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlBuildContext#getLdFlags() ldFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withLdFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        newValue,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlBuildContext#getLdFlags() ldFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of ldFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlBuildContext withLdFlags(Iterable<String> elements) {
+    if (this.ldFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        newValue,
+        this.cPreprocessor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractOcamlBuildContext#getCPreprocessor() cPreprocessor} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cPreprocessor
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlBuildContext withCPreprocessor(Preprocessor value) {
+    if (this.cPreprocessor == value) return this;
+    Preprocessor newValue = Objects.requireNonNull(value, "cPreprocessor");
+    return new OcamlBuildContext(
+        this.buildTarget,
+        this.projectFilesystem,
+        this.sourcePathResolver,
+        this.library,
+        this.flags,
+        this.input,
+        this.nativeIncludes,
+        this.bytecodeIncludes,
+        this.nativeLinkableInput,
+        this.bytecodeLinkableInput,
+        this.cLinkableInput,
+        this.ocamlInput,
+        this.cxxPreprocessorInput,
+        this.nativeCompileDeps,
+        this.bytecodeCompileDeps,
+        this.bytecodeLinkDeps,
+        this.ocamlDepTool,
+        this.ocamlCompiler,
+        this.ocamlDebug,
+        this.yaccCompiler,
+        this.lexCompiler,
+        this.ocamlBytecodeCompiler,
+        this.cFlags,
+        this.ocamlInteropIncludesDir,
+        this.ldFlags,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code OcamlBuildContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof OcamlBuildContext
+        && equalTo((OcamlBuildContext) another);
+  }
+
+  private boolean equalTo(OcamlBuildContext another) {
+    return buildTarget.equals(another.buildTarget)
+        && projectFilesystem.equals(another.projectFilesystem)
+        && sourcePathResolver.equals(another.sourcePathResolver)
+        && library == another.library
+        && flags.equals(another.flags)
+        && input.equals(another.input)
+        && nativeIncludes.equals(another.nativeIncludes)
+        && bytecodeIncludes.equals(another.bytecodeIncludes)
+        && nativeLinkableInput.equals(another.nativeLinkableInput)
+        && bytecodeLinkableInput.equals(another.bytecodeLinkableInput)
+        && cLinkableInput.equals(another.cLinkableInput)
+        && ocamlInput.equals(another.ocamlInput)
+        && cxxPreprocessorInput.equals(another.cxxPreprocessorInput)
+        && nativeCompileDeps.equals(another.nativeCompileDeps)
+        && bytecodeCompileDeps.equals(another.bytecodeCompileDeps)
+        && bytecodeLinkDeps.equals(another.bytecodeLinkDeps)
+        && Objects.equals(ocamlDepTool, another.ocamlDepTool)
+        && Objects.equals(ocamlCompiler, another.ocamlCompiler)
+        && Objects.equals(ocamlDebug, another.ocamlDebug)
+        && Objects.equals(yaccCompiler, another.yaccCompiler)
+        && Objects.equals(lexCompiler, another.lexCompiler)
+        && Objects.equals(ocamlBytecodeCompiler, another.ocamlBytecodeCompiler)
+        && cFlags.equals(another.cFlags)
+        && Objects.equals(ocamlInteropIncludesDir, another.ocamlInteropIncludesDir)
+        && ldFlags.equals(another.ldFlags)
+        && cPreprocessor.equals(another.cPreprocessor);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code projectFilesystem}, {@code sourcePathResolver}, {@code library}, {@code flags}, {@code input}, {@code nativeIncludes}, {@code bytecodeIncludes}, {@code nativeLinkableInput}, {@code bytecodeLinkableInput}, {@code cLinkableInput}, {@code ocamlInput}, {@code cxxPreprocessorInput}, {@code nativeCompileDeps}, {@code bytecodeCompileDeps}, {@code bytecodeLinkDeps}, {@code ocamlDepTool}, {@code ocamlCompiler}, {@code ocamlDebug}, {@code yaccCompiler}, {@code lexCompiler}, {@code ocamlBytecodeCompiler}, {@code cFlags}, {@code ocamlInteropIncludesDir}, {@code ldFlags}, {@code cPreprocessor}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + projectFilesystem.hashCode();
+    h += (h << 5) + sourcePathResolver.hashCode();
+    h += (h << 5) + Booleans.hashCode(library);
+    h += (h << 5) + flags.hashCode();
+    h += (h << 5) + input.hashCode();
+    h += (h << 5) + nativeIncludes.hashCode();
+    h += (h << 5) + bytecodeIncludes.hashCode();
+    h += (h << 5) + nativeLinkableInput.hashCode();
+    h += (h << 5) + bytecodeLinkableInput.hashCode();
+    h += (h << 5) + cLinkableInput.hashCode();
+    h += (h << 5) + ocamlInput.hashCode();
+    h += (h << 5) + cxxPreprocessorInput.hashCode();
+    h += (h << 5) + nativeCompileDeps.hashCode();
+    h += (h << 5) + bytecodeCompileDeps.hashCode();
+    h += (h << 5) + bytecodeLinkDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(ocamlDepTool);
+    h += (h << 5) + Objects.hashCode(ocamlCompiler);
+    h += (h << 5) + Objects.hashCode(ocamlDebug);
+    h += (h << 5) + Objects.hashCode(yaccCompiler);
+    h += (h << 5) + Objects.hashCode(lexCompiler);
+    h += (h << 5) + Objects.hashCode(ocamlBytecodeCompiler);
+    h += (h << 5) + cFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(ocamlInteropIncludesDir);
+    h += (h << 5) + ldFlags.hashCode();
+    h += (h << 5) + cPreprocessor.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code OcamlBuildContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OcamlBuildContext")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("projectFilesystem", projectFilesystem)
+        .add("sourcePathResolver", sourcePathResolver)
+        .add("library", library)
+        .add("flags", flags)
+        .add("input", input)
+        .add("nativeIncludes", nativeIncludes)
+        .add("bytecodeIncludes", bytecodeIncludes)
+        .add("nativeLinkableInput", nativeLinkableInput)
+        .add("bytecodeLinkableInput", bytecodeLinkableInput)
+        .add("cLinkableInput", cLinkableInput)
+        .add("ocamlInput", ocamlInput)
+        .add("cxxPreprocessorInput", cxxPreprocessorInput)
+        .add("nativeCompileDeps", nativeCompileDeps)
+        .add("bytecodeCompileDeps", bytecodeCompileDeps)
+        .add("bytecodeLinkDeps", bytecodeLinkDeps)
+        .add("ocamlDepTool", ocamlDepTool)
+        .add("ocamlCompiler", ocamlCompiler)
+        .add("ocamlDebug", ocamlDebug)
+        .add("yaccCompiler", yaccCompiler)
+        .add("lexCompiler", lexCompiler)
+        .add("ocamlBytecodeCompiler", ocamlBytecodeCompiler)
+        .add("cFlags", cFlags)
+        .add("ocamlInteropIncludesDir", ocamlInteropIncludesDir)
+        .add("ldFlags", ldFlags)
+        .add("cPreprocessor", cPreprocessor)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractOcamlBuildContext} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable OcamlBuildContext instance
+   */
+  static OcamlBuildContext copyOf(AbstractOcamlBuildContext instance) {
+    if (instance instanceof OcamlBuildContext) {
+      return (OcamlBuildContext) instance;
+    }
+    return OcamlBuildContext.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link OcamlBuildContext OcamlBuildContext}.
+   * @return A new OcamlBuildContext builder
+   */
+  public static OcamlBuildContext.Builder builder() {
+    return new OcamlBuildContext.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link OcamlBuildContext OcamlBuildContext}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BUILD_TARGET = 0x1L;
+    private static final long INIT_BIT_PROJECT_FILESYSTEM = 0x2L;
+    private static final long INIT_BIT_SOURCE_PATH_RESOLVER = 0x4L;
+    private static final long INIT_BIT_LIBRARY = 0x8L;
+    private static final long INIT_BIT_NATIVE_LINKABLE_INPUT = 0x10L;
+    private static final long INIT_BIT_BYTECODE_LINKABLE_INPUT = 0x20L;
+    private static final long INIT_BIT_C_LINKABLE_INPUT = 0x40L;
+    private static final long INIT_BIT_CXX_PREPROCESSOR_INPUT = 0x80L;
+    private static final long INIT_BIT_NATIVE_COMPILE_DEPS = 0x100L;
+    private static final long INIT_BIT_BYTECODE_COMPILE_DEPS = 0x200L;
+    private static final long INIT_BIT_BYTECODE_LINK_DEPS = 0x400L;
+    private static final long INIT_BIT_C_PREPROCESSOR = 0x800L;
+    private long initBits = 0xfffL;
+
+    private @Nullable UnflavoredBuildTarget buildTarget;
+    private @Nullable ProjectFilesystem projectFilesystem;
+    private @Nullable SourcePathResolver sourcePathResolver;
+    private boolean library;
+    private ImmutableList.Builder<Arg> flags = ImmutableList.builder();
+    private ImmutableList.Builder<SourcePath> input = ImmutableList.builder();
+    private ImmutableList.Builder<String> nativeIncludes = ImmutableList.builder();
+    private ImmutableList.Builder<String> bytecodeIncludes = ImmutableList.builder();
+    private @Nullable NativeLinkableInput nativeLinkableInput;
+    private @Nullable NativeLinkableInput bytecodeLinkableInput;
+    private @Nullable NativeLinkableInput cLinkableInput;
+    private ImmutableList.Builder<OcamlLibrary> ocamlInput = ImmutableList.builder();
+    private @Nullable CxxPreprocessorInput cxxPreprocessorInput;
+    private @Nullable ImmutableSortedSet<BuildRule> nativeCompileDeps;
+    private @Nullable ImmutableSortedSet<BuildRule> bytecodeCompileDeps;
+    private @Nullable ImmutableSortedSet<BuildRule> bytecodeLinkDeps;
+    private @Nullable Tool ocamlDepTool;
+    private @Nullable Tool ocamlCompiler;
+    private @Nullable Tool ocamlDebug;
+    private @Nullable Tool yaccCompiler;
+    private @Nullable Tool lexCompiler;
+    private @Nullable Tool ocamlBytecodeCompiler;
+    private ImmutableList.Builder<String> cFlags = ImmutableList.builder();
+    private @Nullable String ocamlInteropIncludesDir;
+    private ImmutableList.Builder<String> ldFlags = ImmutableList.builder();
+    private @Nullable Preprocessor cPreprocessor;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code OcamlBuildContext} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(OcamlBuildContext instance) {
+      return from((AbstractOcamlBuildContext) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractOcamlBuildContext} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractOcamlBuildContext instance) {
+      Objects.requireNonNull(instance, "instance");
+      setBuildTarget(instance.getBuildTarget());
+      setProjectFilesystem(instance.getProjectFilesystem());
+      setSourcePathResolver(instance.getSourcePathResolver());
+      setLibrary(instance.isLibrary());
+      addAllFlags(instance.getFlags());
+      addAllInput(instance.getInput());
+      addAllNativeIncludes(instance.getNativeIncludes());
+      addAllBytecodeIncludes(instance.getBytecodeIncludes());
+      setNativeLinkableInput(instance.getNativeLinkableInput());
+      setBytecodeLinkableInput(instance.getBytecodeLinkableInput());
+      setCLinkableInput(instance.getCLinkableInput());
+      addAllOcamlInput(instance.getOcamlInput());
+      setCxxPreprocessorInput(instance.getCxxPreprocessorInput());
+      setNativeCompileDeps(instance.getNativeCompileDeps());
+      setBytecodeCompileDeps(instance.getBytecodeCompileDeps());
+      setBytecodeLinkDeps(instance.getBytecodeLinkDeps());
+      Optional<Tool> ocamlDepToolOptional = instance.getOcamlDepTool();
+      if (ocamlDepToolOptional.isPresent()) {
+        setOcamlDepTool(ocamlDepToolOptional);
+      }
+      Optional<Tool> ocamlCompilerOptional = instance.getOcamlCompiler();
+      if (ocamlCompilerOptional.isPresent()) {
+        setOcamlCompiler(ocamlCompilerOptional);
+      }
+      Optional<Tool> ocamlDebugOptional = instance.getOcamlDebug();
+      if (ocamlDebugOptional.isPresent()) {
+        setOcamlDebug(ocamlDebugOptional);
+      }
+      Optional<Tool> yaccCompilerOptional = instance.getYaccCompiler();
+      if (yaccCompilerOptional.isPresent()) {
+        setYaccCompiler(yaccCompilerOptional);
+      }
+      Optional<Tool> lexCompilerOptional = instance.getLexCompiler();
+      if (lexCompilerOptional.isPresent()) {
+        setLexCompiler(lexCompilerOptional);
+      }
+      Optional<Tool> ocamlBytecodeCompilerOptional = instance.getOcamlBytecodeCompiler();
+      if (ocamlBytecodeCompilerOptional.isPresent()) {
+        setOcamlBytecodeCompiler(ocamlBytecodeCompilerOptional);
+      }
+      addAllCFlags(instance.getCFlags());
+      Optional<String> ocamlInteropIncludesDirOptional = instance.getOcamlInteropIncludesDir();
+      if (ocamlInteropIncludesDirOptional.isPresent()) {
+        setOcamlInteropIncludesDir(ocamlInteropIncludesDirOptional);
+      }
+      addAllLdFlags(instance.getLdFlags());
+      setCPreprocessor(instance.getCPreprocessor());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractOcamlBuildContext#getBuildTarget() buildTarget} attribute.
+     * @param buildTarget The value for buildTarget 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildTarget(UnflavoredBuildTarget buildTarget) {
+      this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+      initBits &= ~INIT_BIT_BUILD_TARGET;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractOcamlBuildContext#getProjectFilesystem() projectFilesystem} attribute.
+     * @param projectFilesystem The value for projectFilesystem 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectFilesystem(ProjectFilesystem projectFilesystem) {
+      this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+      initBits &= ~INIT_BIT_PROJECT_FILESYSTEM;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractOcamlBuildContext#getSourcePathResolver() sourcePathResolver} attribute.
+     * @param sourcePathResolver The value for sourcePathResolver 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourcePathResolver(SourcePathResolver sourcePathResolver) {
+      this.sourcePathResolver = Objects.requireNonNull(sourcePathResolver, "sourcePathResolver");
+      initBits &= ~INIT_BIT_SOURCE_PATH_RESOLVER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractOcamlBuildContext#isLibrary() library} attribute.
+     * @param library The value for library 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLibrary(boolean library) {
+      this.library = library;
+      initBits &= ~INIT_BIT_LIBRARY;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractOcamlBuildContext#getFlags() flags} list.
+     * @param element A flags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFlags(Arg element) {
+      this.flags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlBuildContext#getFlags() flags} list.
+     * @param elements An array of flags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFlags(Arg... elements) {
+      this.flags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOcamlBuildContext#getFlags() flags} list.
+     * @param elements An iterable of flags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFlags(Iterable<? extends Arg> elements) {
+      this.flags = ImmutableList.builder();
+      return addAllFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlBuildContext#getFlags() flags} list.
+     * @param elements An iterable of flags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllFlags(Iterable<? extends Arg> elements) {
+      this.flags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractOcamlBuildContext#getInput() input} list.
+     * @param element A input element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addInput(SourcePath element) {
+      this.input.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlBuildContext#getInput() input} list.
+     * @param elements An array of input elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addInput(SourcePath... elements) {
+      this.input.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOcamlBuildContext#getInput() input} list.
+     * @param elements An iterable of input elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInput(Iterable<? extends SourcePath> elements) {
+      this.input = ImmutableList.builder();
+      return addAllInput(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlBuildContext#getInput() input} list.
+     * @param elements An iterable of input elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllInput(Iterable<? extends SourcePath> elements) {
+      this.input.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractOcamlBuildContext#getNativeIncludes() nativeIncludes} list.
+     * @param element A nativeIncludes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addNativeIncludes(String element) {
+      this.nativeIncludes.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlBuildContext#getNativeIncludes() nativeIncludes} list.
+     * @param elements An array of nativeIncludes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addNativeIncludes(String... elements) {
+      this.nativeIncludes.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOcamlBuildContext#getNativeIncludes() nativeIncludes} list.
+     * @param elements An iterable of nativeIncludes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeIncludes(Iterable<String> elements) {
+      this.nativeIncludes = ImmutableList.builder();
+      return addAllNativeIncludes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlBuildContext#getNativeIncludes() nativeIncludes} list.
+     * @param elements An iterable of nativeIncludes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllNativeIncludes(Iterable<String> elements) {
+      this.nativeIncludes.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractOcamlBuildContext#getBytecodeIncludes() bytecodeIncludes} list.
+     * @param element A bytecodeIncludes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBytecodeIncludes(String element) {
+      this.bytecodeIncludes.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlBuildContext#getBytecodeIncludes() bytecodeIncludes} list.
+     * @param elements An array of bytecodeIncludes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBytecodeIncludes(String... elements) {
+      this.bytecodeIncludes.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOcamlBuildContext#getBytecodeIncludes() bytecodeIncludes} list.
+     * @param elements An iterable of bytecodeIncludes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBytecodeIncludes(Iterable<String> elements) {
+      this.bytecodeIncludes = ImmutableList.builder();
+      return addAllBytecodeIncludes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlBuildContext#getBytecodeIncludes() bytecodeIncludes} list.
+     * @param elements An iterable of bytecodeIncludes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllBytecodeIncludes(Iterable<String> elements) {
+      this.bytecodeIncludes.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractOcamlBuildContext#getNativeLinkableInput() nativeLinkableInput} attribute.
+     * @param nativeLinkableInput The value for nativeLinkableInput 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeLinkableInput(NativeLinkableInput nativeLinkableInput) {
+      this.nativeLinkableInput = Objects.requireNonNull(nativeLinkableInput, "nativeLinkableInput");
+      initBits &= ~INIT_BIT_NATIVE_LINKABLE_INPUT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractOcamlBuildContext#getBytecodeLinkableInput() bytecodeLinkableInput} attribute.
+     * @param bytecodeLinkableInput The value for bytecodeLinkableInput 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBytecodeLinkableInput(NativeLinkableInput bytecodeLinkableInput) {
+      this.bytecodeLinkableInput = Objects.requireNonNull(bytecodeLinkableInput, "bytecodeLinkableInput");
+      initBits &= ~INIT_BIT_BYTECODE_LINKABLE_INPUT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractOcamlBuildContext#getCLinkableInput() cLinkableInput} attribute.
+     * @param cLinkableInput The value for cLinkableInput 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCLinkableInput(NativeLinkableInput cLinkableInput) {
+      this.cLinkableInput = Objects.requireNonNull(cLinkableInput, "cLinkableInput");
+      initBits &= ~INIT_BIT_C_LINKABLE_INPUT;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractOcamlBuildContext#getOcamlInput() ocamlInput} list.
+     * @param element A ocamlInput element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addOcamlInput(OcamlLibrary element) {
+      this.ocamlInput.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlBuildContext#getOcamlInput() ocamlInput} list.
+     * @param elements An array of ocamlInput elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addOcamlInput(OcamlLibrary... elements) {
+      this.ocamlInput.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOcamlBuildContext#getOcamlInput() ocamlInput} list.
+     * @param elements An iterable of ocamlInput elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOcamlInput(Iterable<? extends OcamlLibrary> elements) {
+      this.ocamlInput = ImmutableList.builder();
+      return addAllOcamlInput(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlBuildContext#getOcamlInput() ocamlInput} list.
+     * @param elements An iterable of ocamlInput elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllOcamlInput(Iterable<? extends OcamlLibrary> elements) {
+      this.ocamlInput.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractOcamlBuildContext#getCxxPreprocessorInput() cxxPreprocessorInput} attribute.
+     * @param cxxPreprocessorInput The value for cxxPreprocessorInput 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxPreprocessorInput(CxxPreprocessorInput cxxPreprocessorInput) {
+      this.cxxPreprocessorInput = Objects.requireNonNull(cxxPreprocessorInput, "cxxPreprocessorInput");
+      initBits &= ~INIT_BIT_CXX_PREPROCESSOR_INPUT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractOcamlBuildContext#getNativeCompileDeps() nativeCompileDeps} attribute.
+     * @param nativeCompileDeps The value for nativeCompileDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeCompileDeps(ImmutableSortedSet<BuildRule> nativeCompileDeps) {
+      this.nativeCompileDeps = Objects.requireNonNull(nativeCompileDeps, "nativeCompileDeps");
+      initBits &= ~INIT_BIT_NATIVE_COMPILE_DEPS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractOcamlBuildContext#getBytecodeCompileDeps() bytecodeCompileDeps} attribute.
+     * @param bytecodeCompileDeps The value for bytecodeCompileDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBytecodeCompileDeps(ImmutableSortedSet<BuildRule> bytecodeCompileDeps) {
+      this.bytecodeCompileDeps = Objects.requireNonNull(bytecodeCompileDeps, "bytecodeCompileDeps");
+      initBits &= ~INIT_BIT_BYTECODE_COMPILE_DEPS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractOcamlBuildContext#getBytecodeLinkDeps() bytecodeLinkDeps} attribute.
+     * @param bytecodeLinkDeps The value for bytecodeLinkDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBytecodeLinkDeps(ImmutableSortedSet<BuildRule> bytecodeLinkDeps) {
+      this.bytecodeLinkDeps = Objects.requireNonNull(bytecodeLinkDeps, "bytecodeLinkDeps");
+      initBits &= ~INIT_BIT_BYTECODE_LINK_DEPS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractOcamlBuildContext#getOcamlDepTool() ocamlDepTool} to ocamlDepTool.
+     * @param ocamlDepTool The value for ocamlDepTool
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOcamlDepTool(Tool ocamlDepTool) {
+      this.ocamlDepTool = Objects.requireNonNull(ocamlDepTool, "ocamlDepTool");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractOcamlBuildContext#getOcamlDepTool() ocamlDepTool} to ocamlDepTool.
+     * @param ocamlDepTool The value for ocamlDepTool
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOcamlDepTool(Optional<? extends Tool> ocamlDepTool) {
+      this.ocamlDepTool = ocamlDepTool.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractOcamlBuildContext#getOcamlCompiler() ocamlCompiler} to ocamlCompiler.
+     * @param ocamlCompiler The value for ocamlCompiler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOcamlCompiler(Tool ocamlCompiler) {
+      this.ocamlCompiler = Objects.requireNonNull(ocamlCompiler, "ocamlCompiler");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractOcamlBuildContext#getOcamlCompiler() ocamlCompiler} to ocamlCompiler.
+     * @param ocamlCompiler The value for ocamlCompiler
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOcamlCompiler(Optional<? extends Tool> ocamlCompiler) {
+      this.ocamlCompiler = ocamlCompiler.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractOcamlBuildContext#getOcamlDebug() ocamlDebug} to ocamlDebug.
+     * @param ocamlDebug The value for ocamlDebug
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOcamlDebug(Tool ocamlDebug) {
+      this.ocamlDebug = Objects.requireNonNull(ocamlDebug, "ocamlDebug");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractOcamlBuildContext#getOcamlDebug() ocamlDebug} to ocamlDebug.
+     * @param ocamlDebug The value for ocamlDebug
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOcamlDebug(Optional<? extends Tool> ocamlDebug) {
+      this.ocamlDebug = ocamlDebug.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractOcamlBuildContext#getYaccCompiler() yaccCompiler} to yaccCompiler.
+     * @param yaccCompiler The value for yaccCompiler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setYaccCompiler(Tool yaccCompiler) {
+      this.yaccCompiler = Objects.requireNonNull(yaccCompiler, "yaccCompiler");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractOcamlBuildContext#getYaccCompiler() yaccCompiler} to yaccCompiler.
+     * @param yaccCompiler The value for yaccCompiler
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setYaccCompiler(Optional<? extends Tool> yaccCompiler) {
+      this.yaccCompiler = yaccCompiler.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractOcamlBuildContext#getLexCompiler() lexCompiler} to lexCompiler.
+     * @param lexCompiler The value for lexCompiler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLexCompiler(Tool lexCompiler) {
+      this.lexCompiler = Objects.requireNonNull(lexCompiler, "lexCompiler");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractOcamlBuildContext#getLexCompiler() lexCompiler} to lexCompiler.
+     * @param lexCompiler The value for lexCompiler
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLexCompiler(Optional<? extends Tool> lexCompiler) {
+      this.lexCompiler = lexCompiler.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractOcamlBuildContext#getOcamlBytecodeCompiler() ocamlBytecodeCompiler} to ocamlBytecodeCompiler.
+     * @param ocamlBytecodeCompiler The value for ocamlBytecodeCompiler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOcamlBytecodeCompiler(Tool ocamlBytecodeCompiler) {
+      this.ocamlBytecodeCompiler = Objects.requireNonNull(ocamlBytecodeCompiler, "ocamlBytecodeCompiler");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractOcamlBuildContext#getOcamlBytecodeCompiler() ocamlBytecodeCompiler} to ocamlBytecodeCompiler.
+     * @param ocamlBytecodeCompiler The value for ocamlBytecodeCompiler
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOcamlBytecodeCompiler(Optional<? extends Tool> ocamlBytecodeCompiler) {
+      this.ocamlBytecodeCompiler = ocamlBytecodeCompiler.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractOcamlBuildContext#getCFlags() cFlags} list.
+     * @param element A cFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCFlags(String element) {
+      this.cFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlBuildContext#getCFlags() cFlags} list.
+     * @param elements An array of cFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCFlags(String... elements) {
+      this.cFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOcamlBuildContext#getCFlags() cFlags} list.
+     * @param elements An iterable of cFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCFlags(Iterable<String> elements) {
+      this.cFlags = ImmutableList.builder();
+      return addAllCFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlBuildContext#getCFlags() cFlags} list.
+     * @param elements An iterable of cFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCFlags(Iterable<String> elements) {
+      this.cFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractOcamlBuildContext#getOcamlInteropIncludesDir() ocamlInteropIncludesDir} to ocamlInteropIncludesDir.
+     * @param ocamlInteropIncludesDir The value for ocamlInteropIncludesDir
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOcamlInteropIncludesDir(String ocamlInteropIncludesDir) {
+      this.ocamlInteropIncludesDir = Objects.requireNonNull(ocamlInteropIncludesDir, "ocamlInteropIncludesDir");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractOcamlBuildContext#getOcamlInteropIncludesDir() ocamlInteropIncludesDir} to ocamlInteropIncludesDir.
+     * @param ocamlInteropIncludesDir The value for ocamlInteropIncludesDir
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOcamlInteropIncludesDir(Optional<String> ocamlInteropIncludesDir) {
+      this.ocamlInteropIncludesDir = ocamlInteropIncludesDir.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractOcamlBuildContext#getLdFlags() ldFlags} list.
+     * @param element A ldFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLdFlags(String element) {
+      this.ldFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlBuildContext#getLdFlags() ldFlags} list.
+     * @param elements An array of ldFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLdFlags(String... elements) {
+      this.ldFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOcamlBuildContext#getLdFlags() ldFlags} list.
+     * @param elements An iterable of ldFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLdFlags(Iterable<String> elements) {
+      this.ldFlags = ImmutableList.builder();
+      return addAllLdFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlBuildContext#getLdFlags() ldFlags} list.
+     * @param elements An iterable of ldFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLdFlags(Iterable<String> elements) {
+      this.ldFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractOcamlBuildContext#getCPreprocessor() cPreprocessor} attribute.
+     * @param cPreprocessor The value for cPreprocessor 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCPreprocessor(Preprocessor cPreprocessor) {
+      this.cPreprocessor = Objects.requireNonNull(cPreprocessor, "cPreprocessor");
+      initBits &= ~INIT_BIT_C_PREPROCESSOR;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link OcamlBuildContext OcamlBuildContext}.
+     * @return An immutable instance of OcamlBuildContext
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public OcamlBuildContext build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new OcamlBuildContext(
+          buildTarget,
+          projectFilesystem,
+          sourcePathResolver,
+          library,
+          flags.build(),
+          input.build(),
+          nativeIncludes.build(),
+          bytecodeIncludes.build(),
+          nativeLinkableInput,
+          bytecodeLinkableInput,
+          cLinkableInput,
+          ocamlInput.build(),
+          cxxPreprocessorInput,
+          nativeCompileDeps,
+          bytecodeCompileDeps,
+          bytecodeLinkDeps,
+          ocamlDepTool,
+          ocamlCompiler,
+          ocamlDebug,
+          yaccCompiler,
+          lexCompiler,
+          ocamlBytecodeCompiler,
+          cFlags.build(),
+          ocamlInteropIncludesDir,
+          ldFlags.build(),
+          cPreprocessor);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_BUILD_TARGET) != 0) attributes.add("buildTarget");
+      if ((initBits & INIT_BIT_PROJECT_FILESYSTEM) != 0) attributes.add("projectFilesystem");
+      if ((initBits & INIT_BIT_SOURCE_PATH_RESOLVER) != 0) attributes.add("sourcePathResolver");
+      if ((initBits & INIT_BIT_LIBRARY) != 0) attributes.add("library");
+      if ((initBits & INIT_BIT_NATIVE_LINKABLE_INPUT) != 0) attributes.add("nativeLinkableInput");
+      if ((initBits & INIT_BIT_BYTECODE_LINKABLE_INPUT) != 0) attributes.add("bytecodeLinkableInput");
+      if ((initBits & INIT_BIT_C_LINKABLE_INPUT) != 0) attributes.add("cLinkableInput");
+      if ((initBits & INIT_BIT_CXX_PREPROCESSOR_INPUT) != 0) attributes.add("cxxPreprocessorInput");
+      if ((initBits & INIT_BIT_NATIVE_COMPILE_DEPS) != 0) attributes.add("nativeCompileDeps");
+      if ((initBits & INIT_BIT_BYTECODE_COMPILE_DEPS) != 0) attributes.add("bytecodeCompileDeps");
+      if ((initBits & INIT_BIT_BYTECODE_LINK_DEPS) != 0) attributes.add("bytecodeLinkDeps");
+      if ((initBits & INIT_BIT_C_PREPROCESSOR) != 0) attributes.add("cPreprocessor");
+      return "Cannot build OcamlBuildContext, some of required attributes are not set " + attributes;
+    }
+  }
+}
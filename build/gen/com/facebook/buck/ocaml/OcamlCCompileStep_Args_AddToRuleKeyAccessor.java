@@ -0,0 +1,36 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.ocaml;
+
+public final class OcamlCCompileStep_Args_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("input", "cCompiler", "output", "stdlib", "includes", "ocamlCompiler", "cFlags"));
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        return ((com.facebook.buck.ocaml.OcamlCCompileStep.Args) instance).input;
+      case 1:
+        return ((com.facebook.buck.ocaml.OcamlCCompileStep.Args) instance).cCompiler;
+      case 2:
+        return ((com.facebook.buck.ocaml.OcamlCCompileStep.Args) instance).output;
+      case 3:
+        return ((com.facebook.buck.ocaml.OcamlCCompileStep.Args) instance).stdlib;
+      case 4:
+        return ((com.facebook.buck.ocaml.OcamlCCompileStep.Args) instance).includes;
+      case 5:
+        return ((com.facebook.buck.ocaml.OcamlCCompileStep.Args) instance).ocamlCompiler;
+      case 6:
+        return ((com.facebook.buck.ocaml.OcamlCCompileStep.Args) instance).cFlags;
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+}
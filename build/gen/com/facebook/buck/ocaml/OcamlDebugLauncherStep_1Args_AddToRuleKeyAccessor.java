@@ -0,0 +1,33 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.ocaml;
+
+public final class OcamlDebugLauncherStep_1Args_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("ocamlDebug", "bytecodeOutput", "bytecodeIncludeFlags"));
+
+  @java.lang.Override
+  public java.lang.Class<?> getTargetClass() {
+    return com.facebook.buck.ocaml.OcamlDebugLauncherStep.Args.class;
+  }
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        return ((com.facebook.buck.ocaml.OcamlDebugLauncherStep.Args) instance).ocamlDebug;
+      case 1:
+        return ((com.facebook.buck.ocaml.OcamlDebugLauncherStep.Args) instance).bytecodeOutput;
+      case 2:
+        return ((com.facebook.buck.ocaml.OcamlDebugLauncherStep.Args) instance).bytecodeIncludeFlags;
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+}
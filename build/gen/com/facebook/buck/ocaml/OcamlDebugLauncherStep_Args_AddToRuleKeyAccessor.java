@@ -0,0 +1,28 @@
+// Generated by com.facebook.buck.rules.keys.processor.AddToRuleKeyProcessor. Do not edit.
+package com.facebook.buck.ocaml;
+
+public final class OcamlDebugLauncherStep_Args_AddToRuleKeyAccessor implements com.facebook.buck.rules.AddToRuleKeyAccessor {
+
+  private static final java.util.List<java.lang.String> MEMBER_NAMES =
+      java.util.Collections.unmodifiableList(java.util.Arrays.asList("bytecodeIncludeFlags", "bytecodeOutput", "ocamlDebug"));
+
+  @java.lang.Override
+  public java.util.List<java.lang.String> getMemberNames() {
+    return MEMBER_NAMES;
+  }
+
+  @java.lang.Override
+  public java.lang.Object getValue(int member, java.lang.Object instance) {
+    switch (member) {
+      case 0:
+        return ((com.facebook.buck.ocaml.OcamlDebugLauncherStep.Args) instance).bytecodeIncludeFlags;
+      case 1:
+        return ((com.facebook.buck.ocaml.OcamlDebugLauncherStep.Args) instance).bytecodeOutput;
+      case 2:
+        return ((com.facebook.buck.ocaml.OcamlDebugLauncherStep.Args) instance).ocamlDebug;
+      default:
+        throw new java.lang.IndexOutOfBoundsException(
+            java.lang.String.valueOf(member));
+    }
+  }
+}
@@ -0,0 +1,1121 @@
+package com.facebook.buck.ocaml;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.coercer.OcamlSource;
+import com.facebook.buck.rules.macros.StringWithMacros;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code OcamlLibraryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg"})
+@Immutable
+public final class OcamlLibraryDescriptionArg
+    implements OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg {
+  private final ImmutableList<OcamlSource> srcs;
+  private final ImmutableList<StringWithMacros> compilerFlags;
+  private final ImmutableList<String> linkerFlags;
+  private final @Nullable String warningsFlags;
+  private final boolean bytecodeOnly;
+  private final boolean nativePlugin;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private OcamlLibraryDescriptionArg(OcamlLibraryDescriptionArg.Builder builder) {
+    this.srcs = builder.srcs.build();
+    this.compilerFlags = builder.compilerFlags.build();
+    this.linkerFlags = builder.linkerFlags.build();
+    this.warningsFlags = builder.warningsFlags;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    if (builder.bytecodeOnlyIsSet()) {
+      initShim.setBytecodeOnly(builder.bytecodeOnly);
+    }
+    if (builder.nativePluginIsSet()) {
+      initShim.setNativePlugin(builder.nativePlugin);
+    }
+    this.bytecodeOnly = initShim.getBytecodeOnly();
+    this.nativePlugin = initShim.getNativePlugin();
+    this.initShim = null;
+  }
+
+  private OcamlLibraryDescriptionArg(
+      ImmutableList<OcamlSource> srcs,
+      ImmutableList<StringWithMacros> compilerFlags,
+      ImmutableList<String> linkerFlags,
+      @Nullable String warningsFlags,
+      boolean bytecodeOnly,
+      boolean nativePlugin,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.srcs = srcs;
+    this.compilerFlags = compilerFlags;
+    this.linkerFlags = linkerFlags;
+    this.warningsFlags = warningsFlags;
+    this.bytecodeOnly = bytecodeOnly;
+    this.nativePlugin = nativePlugin;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean bytecodeOnly;
+    private int bytecodeOnlyBuildStage;
+
+    boolean getBytecodeOnly() {
+      if (bytecodeOnlyBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (bytecodeOnlyBuildStage == STAGE_UNINITIALIZED) {
+        bytecodeOnlyBuildStage = STAGE_INITIALIZING;
+        this.bytecodeOnly = getBytecodeOnlyInitialize();
+        bytecodeOnlyBuildStage = STAGE_INITIALIZED;
+      }
+      return this.bytecodeOnly;
+    }
+
+    void setBytecodeOnly(boolean bytecodeOnly) {
+      this.bytecodeOnly = bytecodeOnly;
+      bytecodeOnlyBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean nativePlugin;
+    private int nativePluginBuildStage;
+
+    boolean getNativePlugin() {
+      if (nativePluginBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (nativePluginBuildStage == STAGE_UNINITIALIZED) {
+        nativePluginBuildStage = STAGE_INITIALIZING;
+        this.nativePlugin = getNativePluginInitialize();
+        nativePluginBuildStage = STAGE_INITIALIZED;
+      }
+      return this.nativePlugin;
+    }
+
+    void setNativePlugin(boolean nativePlugin) {
+      this.nativePlugin = nativePlugin;
+      nativePluginBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (bytecodeOnlyBuildStage == STAGE_INITIALIZING) attributes.add("bytecodeOnly");
+      if (nativePluginBuildStage == STAGE_INITIALIZING) attributes.add("nativePlugin");
+      return "Cannot build OcamlLibraryDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private boolean getBytecodeOnlyInitialize() {
+    return OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg.super.getBytecodeOnly();
+  }
+
+  private boolean getNativePluginInitialize() {
+    return OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg.super.getNativePlugin();
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableList<OcamlSource> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * @return The value of the {@code compilerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getCompilerFlags() {
+    return compilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code warningsFlags} attribute
+   */
+  @Override
+  public Optional<String> getWarningsFlags() {
+    return Optional.ofNullable(warningsFlags);
+  }
+
+  /**
+   * @return The value of the {@code bytecodeOnly} attribute
+   */
+  @Override
+  public boolean getBytecodeOnly() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBytecodeOnly()
+        : this.bytecodeOnly;
+  }
+
+  /**
+   * @return The value of the {@code nativePlugin} attribute
+   */
+  @Override
+  public boolean getNativePlugin() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getNativePlugin()
+        : this.nativePlugin;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlLibraryDescriptionArg withSrcs(OcamlSource... elements) {
+    ImmutableList<OcamlSource> newValue = ImmutableList.copyOf(elements);
+    return new OcamlLibraryDescriptionArg(
+        newValue,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.warningsFlags,
+        this.bytecodeOnly,
+        this.nativePlugin,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlLibraryDescriptionArg withSrcs(Iterable<? extends OcamlSource> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableList<OcamlSource> newValue = ImmutableList.copyOf(elements);
+    return new OcamlLibraryDescriptionArg(
+        newValue,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.warningsFlags,
+        this.bytecodeOnly,
+        this.nativePlugin,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getCompilerFlags() compilerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlLibraryDescriptionArg withCompilerFlags(StringWithMacros... elements) {
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return new OcamlLibraryDescriptionArg(
+        this.srcs,
+        newValue,
+        this.linkerFlags,
+        this.warningsFlags,
+        this.bytecodeOnly,
+        this.nativePlugin,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getCompilerFlags() compilerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of compilerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlLibraryDescriptionArg withCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+    if (this.compilerFlags == elements) return this;
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return new OcamlLibraryDescriptionArg(
+        this.srcs,
+        newValue,
+        this.linkerFlags,
+        this.warningsFlags,
+        this.bytecodeOnly,
+        this.nativePlugin,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLinkerFlags() linkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlLibraryDescriptionArg withLinkerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OcamlLibraryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        newValue,
+        this.warningsFlags,
+        this.bytecodeOnly,
+        this.nativePlugin,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLinkerFlags() linkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of linkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlLibraryDescriptionArg withLinkerFlags(Iterable<String> elements) {
+    if (this.linkerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OcamlLibraryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        newValue,
+        this.warningsFlags,
+        this.bytecodeOnly,
+        this.nativePlugin,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getWarningsFlags() warningsFlags} attribute.
+   * @param value The value for warningsFlags
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlLibraryDescriptionArg withWarningsFlags(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "warningsFlags");
+    if (Objects.equals(this.warningsFlags, newValue)) return this;
+    return new OcamlLibraryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        newValue,
+        this.bytecodeOnly,
+        this.nativePlugin,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getWarningsFlags() warningsFlags} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for warningsFlags
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlLibraryDescriptionArg withWarningsFlags(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.warningsFlags, value)) return this;
+    return new OcamlLibraryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        value,
+        this.bytecodeOnly,
+        this.nativePlugin,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getBytecodeOnly() bytecodeOnly} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for bytecodeOnly
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlLibraryDescriptionArg withBytecodeOnly(boolean value) {
+    if (this.bytecodeOnly == value) return this;
+    return new OcamlLibraryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.warningsFlags,
+        value,
+        this.nativePlugin,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getNativePlugin() nativePlugin} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for nativePlugin
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlLibraryDescriptionArg withNativePlugin(boolean value) {
+    if (this.nativePlugin == value) return this;
+    return new OcamlLibraryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.warningsFlags,
+        this.bytecodeOnly,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlLibraryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new OcamlLibraryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.warningsFlags,
+        this.bytecodeOnly,
+        this.nativePlugin,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlLibraryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new OcamlLibraryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.warningsFlags,
+        this.bytecodeOnly,
+        this.nativePlugin,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlLibraryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new OcamlLibraryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.warningsFlags,
+        this.bytecodeOnly,
+        this.nativePlugin,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlLibraryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new OcamlLibraryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.warningsFlags,
+        this.bytecodeOnly,
+        this.nativePlugin,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlLibraryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new OcamlLibraryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.warningsFlags,
+        this.bytecodeOnly,
+        this.nativePlugin,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlLibraryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new OcamlLibraryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.warningsFlags,
+        this.bytecodeOnly,
+        this.nativePlugin,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlLibraryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new OcamlLibraryDescriptionArg(
+        this.srcs,
+        this.compilerFlags,
+        this.linkerFlags,
+        this.warningsFlags,
+        this.bytecodeOnly,
+        this.nativePlugin,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code OcamlLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof OcamlLibraryDescriptionArg
+        && equalTo((OcamlLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(OcamlLibraryDescriptionArg another) {
+    return srcs.equals(another.srcs)
+        && compilerFlags.equals(another.compilerFlags)
+        && linkerFlags.equals(another.linkerFlags)
+        && Objects.equals(warningsFlags, another.warningsFlags)
+        && bytecodeOnly == another.bytecodeOnly
+        && nativePlugin == another.nativePlugin
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code srcs}, {@code compilerFlags}, {@code linkerFlags}, {@code warningsFlags}, {@code bytecodeOnly}, {@code nativePlugin}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + compilerFlags.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(warningsFlags);
+    h += (h << 5) + Booleans.hashCode(bytecodeOnly);
+    h += (h << 5) + Booleans.hashCode(nativePlugin);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code OcamlLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OcamlLibraryDescriptionArg")
+        .omitNullValues()
+        .add("srcs", srcs)
+        .add("compilerFlags", compilerFlags)
+        .add("linkerFlags", linkerFlags)
+        .add("warningsFlags", warningsFlags)
+        .add("bytecodeOnly", bytecodeOnly)
+        .add("nativePlugin", nativePlugin)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable OcamlLibraryDescriptionArg instance
+   */
+  static OcamlLibraryDescriptionArg copyOf(OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg instance) {
+    if (instance instanceof OcamlLibraryDescriptionArg) {
+      return (OcamlLibraryDescriptionArg) instance;
+    }
+    return OcamlLibraryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link OcamlLibraryDescriptionArg OcamlLibraryDescriptionArg}.
+   * @return A new OcamlLibraryDescriptionArg builder
+   */
+  public static OcamlLibraryDescriptionArg.Builder builder() {
+    return new OcamlLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link OcamlLibraryDescriptionArg OcamlLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_BYTECODE_ONLY = 0x1L;
+    private static final long OPT_BIT_NATIVE_PLUGIN = 0x2L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private ImmutableList.Builder<OcamlSource> srcs = ImmutableList.builder();
+    private ImmutableList.Builder<StringWithMacros> compilerFlags = ImmutableList.builder();
+    private ImmutableList.Builder<String> linkerFlags = ImmutableList.builder();
+    private @Nullable String warningsFlags;
+    private boolean bytecodeOnly;
+    private boolean nativePlugin;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code OcamlLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(OcamlLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractOcamlLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg) {
+        OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg instance = (OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg) object;
+        addAllSrcs(instance.getSrcs());
+        setBytecodeOnly(instance.getBytecodeOnly());
+        addAllLinkerFlags(instance.getLinkerFlags());
+        setNativePlugin(instance.getNativePlugin());
+        Optional<String> warningsFlagsOptional = instance.getWarningsFlags();
+        if (warningsFlagsOptional.isPresent()) {
+          setWarningsFlags(warningsFlagsOptional);
+        }
+        addAllCompilerFlags(instance.getCompilerFlags());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Adds one element to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getSrcs() srcs} list.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(OcamlSource element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getSrcs() srcs} list.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(OcamlSource... elements) {
+      this.srcs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getSrcs() srcs} list.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends OcamlSource> elements) {
+      this.srcs = ImmutableList.builder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getSrcs() srcs} list.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends OcamlSource> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param element A compilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(StringWithMacros element) {
+      this.compilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An array of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(StringWithMacros... elements) {
+      this.compilerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.compilerFlags = ImmutableList.builder();
+      return addAllCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.compilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getWarningsFlags() warningsFlags} to warningsFlags.
+     * @param warningsFlags The value for warningsFlags
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setWarningsFlags(String warningsFlags) {
+      this.warningsFlags = Objects.requireNonNull(warningsFlags, "warningsFlags");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getWarningsFlags() warningsFlags} to warningsFlags.
+     * @param warningsFlags The value for warningsFlags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWarningsFlags(Optional<String> warningsFlags) {
+      this.warningsFlags = warningsFlags.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getBytecodeOnly() bytecodeOnly} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getBytecodeOnly() bytecodeOnly}.</em>
+     * @param bytecodeOnly The value for bytecodeOnly 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBytecodeOnly(boolean bytecodeOnly) {
+      this.bytecodeOnly = bytecodeOnly;
+      optBits |= OPT_BIT_BYTECODE_ONLY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getNativePlugin() nativePlugin} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getNativePlugin() nativePlugin}.</em>
+     * @param nativePlugin The value for nativePlugin 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativePlugin(boolean nativePlugin) {
+      this.nativePlugin = nativePlugin;
+      optBits |= OPT_BIT_NATIVE_PLUGIN;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link OcamlLibraryDescription.AbstractOcamlLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link OcamlLibraryDescriptionArg OcamlLibraryDescriptionArg}.
+     * @return An immutable instance of OcamlLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public OcamlLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new OcamlLibraryDescriptionArg(this);
+    }
+
+    private boolean bytecodeOnlyIsSet() {
+      return (optBits & OPT_BIT_BYTECODE_ONLY) != 0;
+    }
+
+    private boolean nativePluginIsSet() {
+      return (optBits & OPT_BIT_NATIVE_PLUGIN) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build OcamlLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
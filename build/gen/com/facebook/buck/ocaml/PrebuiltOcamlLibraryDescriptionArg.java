@@ -0,0 +1,1137 @@
+package com.facebook.buck.ocaml;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PrebuiltOcamlLibraryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg"})
+@Immutable
+public final class PrebuiltOcamlLibraryDescriptionArg
+    extends PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg {
+  private final String libDir;
+  private final String includeDir;
+  private final String libName;
+  private final String nativeLib;
+  private final String bytecodeLib;
+  private final ImmutableList<String> cLibs;
+  private final boolean bytecodeOnly;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private PrebuiltOcamlLibraryDescriptionArg(PrebuiltOcamlLibraryDescriptionArg.Builder builder) {
+    this.cLibs = builder.cLibs.build();
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    if (builder.libDir != null) {
+      initShim.setLibDir(builder.libDir);
+    }
+    if (builder.includeDir != null) {
+      initShim.setIncludeDir(builder.includeDir);
+    }
+    if (builder.libName != null) {
+      initShim.setLibName(builder.libName);
+    }
+    if (builder.nativeLib != null) {
+      initShim.setNativeLib(builder.nativeLib);
+    }
+    if (builder.bytecodeLib != null) {
+      initShim.setBytecodeLib(builder.bytecodeLib);
+    }
+    if (builder.bytecodeOnlyIsSet()) {
+      initShim.setBytecodeOnly(builder.bytecodeOnly);
+    }
+    this.libDir = initShim.getLibDir();
+    this.includeDir = initShim.getIncludeDir();
+    this.libName = initShim.getLibName();
+    this.nativeLib = initShim.getNativeLib();
+    this.bytecodeLib = initShim.getBytecodeLib();
+    this.bytecodeOnly = initShim.getBytecodeOnly();
+    this.initShim = null;
+  }
+
+  private PrebuiltOcamlLibraryDescriptionArg(
+      String libDir,
+      String includeDir,
+      String libName,
+      String nativeLib,
+      String bytecodeLib,
+      ImmutableList<String> cLibs,
+      boolean bytecodeOnly,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.libDir = libDir;
+    this.includeDir = includeDir;
+    this.libName = libName;
+    this.nativeLib = nativeLib;
+    this.bytecodeLib = bytecodeLib;
+    this.cLibs = cLibs;
+    this.bytecodeOnly = bytecodeOnly;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private String libDir;
+    private int libDirBuildStage;
+
+    String getLibDir() {
+      if (libDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (libDirBuildStage == STAGE_UNINITIALIZED) {
+        libDirBuildStage = STAGE_INITIALIZING;
+        this.libDir = Objects.requireNonNull(PrebuiltOcamlLibraryDescriptionArg.super.getLibDir(), "libDir");
+        libDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.libDir;
+    }
+
+    void setLibDir(String libDir) {
+      this.libDir = libDir;
+      libDirBuildStage = STAGE_INITIALIZED;
+    }
+    private String includeDir;
+    private int includeDirBuildStage;
+
+    String getIncludeDir() {
+      if (includeDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (includeDirBuildStage == STAGE_UNINITIALIZED) {
+        includeDirBuildStage = STAGE_INITIALIZING;
+        this.includeDir = Objects.requireNonNull(PrebuiltOcamlLibraryDescriptionArg.super.getIncludeDir(), "includeDir");
+        includeDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.includeDir;
+    }
+
+    void setIncludeDir(String includeDir) {
+      this.includeDir = includeDir;
+      includeDirBuildStage = STAGE_INITIALIZED;
+    }
+    private String libName;
+    private int libNameBuildStage;
+
+    String getLibName() {
+      if (libNameBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (libNameBuildStage == STAGE_UNINITIALIZED) {
+        libNameBuildStage = STAGE_INITIALIZING;
+        this.libName = Objects.requireNonNull(PrebuiltOcamlLibraryDescriptionArg.super.getLibName(), "libName");
+        libNameBuildStage = STAGE_INITIALIZED;
+      }
+      return this.libName;
+    }
+
+    void setLibName(String libName) {
+      this.libName = libName;
+      libNameBuildStage = STAGE_INITIALIZED;
+    }
+    private String nativeLib;
+    private int nativeLibBuildStage;
+
+    String getNativeLib() {
+      if (nativeLibBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (nativeLibBuildStage == STAGE_UNINITIALIZED) {
+        nativeLibBuildStage = STAGE_INITIALIZING;
+        this.nativeLib = Objects.requireNonNull(PrebuiltOcamlLibraryDescriptionArg.super.getNativeLib(), "nativeLib");
+        nativeLibBuildStage = STAGE_INITIALIZED;
+      }
+      return this.nativeLib;
+    }
+
+    void setNativeLib(String nativeLib) {
+      this.nativeLib = nativeLib;
+      nativeLibBuildStage = STAGE_INITIALIZED;
+    }
+    private String bytecodeLib;
+    private int bytecodeLibBuildStage;
+
+    String getBytecodeLib() {
+      if (bytecodeLibBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (bytecodeLibBuildStage == STAGE_UNINITIALIZED) {
+        bytecodeLibBuildStage = STAGE_INITIALIZING;
+        this.bytecodeLib = Objects.requireNonNull(PrebuiltOcamlLibraryDescriptionArg.super.getBytecodeLib(), "bytecodeLib");
+        bytecodeLibBuildStage = STAGE_INITIALIZED;
+      }
+      return this.bytecodeLib;
+    }
+
+    void setBytecodeLib(String bytecodeLib) {
+      this.bytecodeLib = bytecodeLib;
+      bytecodeLibBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean bytecodeOnly;
+    private int bytecodeOnlyBuildStage;
+
+    boolean getBytecodeOnly() {
+      if (bytecodeOnlyBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (bytecodeOnlyBuildStage == STAGE_UNINITIALIZED) {
+        bytecodeOnlyBuildStage = STAGE_INITIALIZING;
+        this.bytecodeOnly = PrebuiltOcamlLibraryDescriptionArg.super.getBytecodeOnly();
+        bytecodeOnlyBuildStage = STAGE_INITIALIZED;
+      }
+      return this.bytecodeOnly;
+    }
+
+    void setBytecodeOnly(boolean bytecodeOnly) {
+      this.bytecodeOnly = bytecodeOnly;
+      bytecodeOnlyBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (libDirBuildStage == STAGE_INITIALIZING) attributes.add("libDir");
+      if (includeDirBuildStage == STAGE_INITIALIZING) attributes.add("includeDir");
+      if (libNameBuildStage == STAGE_INITIALIZING) attributes.add("libName");
+      if (nativeLibBuildStage == STAGE_INITIALIZING) attributes.add("nativeLib");
+      if (bytecodeLibBuildStage == STAGE_INITIALIZING) attributes.add("bytecodeLib");
+      if (bytecodeOnlyBuildStage == STAGE_INITIALIZING) attributes.add("bytecodeOnly");
+      return "Cannot build PrebuiltOcamlLibraryDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code libDir} attribute
+   */
+  @Override
+  public String getLibDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLibDir()
+        : this.libDir;
+  }
+
+  /**
+   * @return The value of the {@code includeDir} attribute
+   */
+  @Override
+  public String getIncludeDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getIncludeDir()
+        : this.includeDir;
+  }
+
+  /**
+   * @return The value of the {@code libName} attribute
+   */
+  @Override
+  public String getLibName() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLibName()
+        : this.libName;
+  }
+
+  /**
+   * @return The value of the {@code nativeLib} attribute
+   */
+  @Override
+  public String getNativeLib() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getNativeLib()
+        : this.nativeLib;
+  }
+
+  /**
+   * @return The value of the {@code bytecodeLib} attribute
+   */
+  @Override
+  public String getBytecodeLib() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBytecodeLib()
+        : this.bytecodeLib;
+  }
+
+  /**
+   * @return The value of the {@code cLibs} attribute
+   */
+  @Override
+  public ImmutableList<String> getCLibs() {
+    return cLibs;
+  }
+
+  /**
+   * @return The value of the {@code bytecodeOnly} attribute
+   */
+  @Override
+  public boolean getBytecodeOnly() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBytecodeOnly()
+        : this.bytecodeOnly;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLibDir() libDir} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for libDir
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltOcamlLibraryDescriptionArg withLibDir(String value) {
+    if (this.libDir.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "libDir");
+    return new PrebuiltOcamlLibraryDescriptionArg(
+        newValue,
+        this.includeDir,
+        this.libName,
+        this.nativeLib,
+        this.bytecodeLib,
+        this.cLibs,
+        this.bytecodeOnly,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getIncludeDir() includeDir} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for includeDir
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltOcamlLibraryDescriptionArg withIncludeDir(String value) {
+    if (this.includeDir.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "includeDir");
+    return new PrebuiltOcamlLibraryDescriptionArg(
+        this.libDir,
+        newValue,
+        this.libName,
+        this.nativeLib,
+        this.bytecodeLib,
+        this.cLibs,
+        this.bytecodeOnly,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLibName() libName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for libName
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltOcamlLibraryDescriptionArg withLibName(String value) {
+    if (this.libName.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "libName");
+    return new PrebuiltOcamlLibraryDescriptionArg(
+        this.libDir,
+        this.includeDir,
+        newValue,
+        this.nativeLib,
+        this.bytecodeLib,
+        this.cLibs,
+        this.bytecodeOnly,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getNativeLib() nativeLib} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for nativeLib
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltOcamlLibraryDescriptionArg withNativeLib(String value) {
+    if (this.nativeLib.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "nativeLib");
+    return new PrebuiltOcamlLibraryDescriptionArg(
+        this.libDir,
+        this.includeDir,
+        this.libName,
+        newValue,
+        this.bytecodeLib,
+        this.cLibs,
+        this.bytecodeOnly,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getBytecodeLib() bytecodeLib} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for bytecodeLib
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltOcamlLibraryDescriptionArg withBytecodeLib(String value) {
+    if (this.bytecodeLib.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "bytecodeLib");
+    return new PrebuiltOcamlLibraryDescriptionArg(
+        this.libDir,
+        this.includeDir,
+        this.libName,
+        this.nativeLib,
+        newValue,
+        this.cLibs,
+        this.bytecodeOnly,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getCLibs() cLibs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltOcamlLibraryDescriptionArg withCLibs(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltOcamlLibraryDescriptionArg(
+        this.libDir,
+        this.includeDir,
+        this.libName,
+        this.nativeLib,
+        this.bytecodeLib,
+        newValue,
+        this.bytecodeOnly,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getCLibs() cLibs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cLibs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltOcamlLibraryDescriptionArg withCLibs(Iterable<String> elements) {
+    if (this.cLibs == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltOcamlLibraryDescriptionArg(
+        this.libDir,
+        this.includeDir,
+        this.libName,
+        this.nativeLib,
+        this.bytecodeLib,
+        newValue,
+        this.bytecodeOnly,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getBytecodeOnly() bytecodeOnly} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for bytecodeOnly
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltOcamlLibraryDescriptionArg withBytecodeOnly(boolean value) {
+    if (this.bytecodeOnly == value) return this;
+    return new PrebuiltOcamlLibraryDescriptionArg(
+        this.libDir,
+        this.includeDir,
+        this.libName,
+        this.nativeLib,
+        this.bytecodeLib,
+        this.cLibs,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltOcamlLibraryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new PrebuiltOcamlLibraryDescriptionArg(
+        this.libDir,
+        this.includeDir,
+        this.libName,
+        this.nativeLib,
+        this.bytecodeLib,
+        this.cLibs,
+        this.bytecodeOnly,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltOcamlLibraryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PrebuiltOcamlLibraryDescriptionArg(
+        this.libDir,
+        this.includeDir,
+        this.libName,
+        this.nativeLib,
+        this.bytecodeLib,
+        this.cLibs,
+        this.bytecodeOnly,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltOcamlLibraryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PrebuiltOcamlLibraryDescriptionArg(
+        this.libDir,
+        this.includeDir,
+        this.libName,
+        this.nativeLib,
+        this.bytecodeLib,
+        this.cLibs,
+        this.bytecodeOnly,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltOcamlLibraryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltOcamlLibraryDescriptionArg(
+        this.libDir,
+        this.includeDir,
+        this.libName,
+        this.nativeLib,
+        this.bytecodeLib,
+        this.cLibs,
+        this.bytecodeOnly,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltOcamlLibraryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new PrebuiltOcamlLibraryDescriptionArg(
+        this.libDir,
+        this.includeDir,
+        this.libName,
+        this.nativeLib,
+        this.bytecodeLib,
+        this.cLibs,
+        this.bytecodeOnly,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltOcamlLibraryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltOcamlLibraryDescriptionArg(
+        this.libDir,
+        this.includeDir,
+        this.libName,
+        this.nativeLib,
+        this.bytecodeLib,
+        this.cLibs,
+        this.bytecodeOnly,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltOcamlLibraryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new PrebuiltOcamlLibraryDescriptionArg(
+        this.libDir,
+        this.includeDir,
+        this.libName,
+        this.nativeLib,
+        this.bytecodeLib,
+        this.cLibs,
+        this.bytecodeOnly,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PrebuiltOcamlLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PrebuiltOcamlLibraryDescriptionArg
+        && equalTo((PrebuiltOcamlLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(PrebuiltOcamlLibraryDescriptionArg another) {
+    return libDir.equals(another.libDir)
+        && includeDir.equals(another.includeDir)
+        && libName.equals(another.libName)
+        && nativeLib.equals(another.nativeLib)
+        && bytecodeLib.equals(another.bytecodeLib)
+        && cLibs.equals(another.cLibs)
+        && bytecodeOnly == another.bytecodeOnly
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code libDir}, {@code includeDir}, {@code libName}, {@code nativeLib}, {@code bytecodeLib}, {@code cLibs}, {@code bytecodeOnly}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + libDir.hashCode();
+    h += (h << 5) + includeDir.hashCode();
+    h += (h << 5) + libName.hashCode();
+    h += (h << 5) + nativeLib.hashCode();
+    h += (h << 5) + bytecodeLib.hashCode();
+    h += (h << 5) + cLibs.hashCode();
+    h += (h << 5) + Booleans.hashCode(bytecodeOnly);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PrebuiltOcamlLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PrebuiltOcamlLibraryDescriptionArg")
+        .omitNullValues()
+        .add("libDir", libDir)
+        .add("includeDir", includeDir)
+        .add("libName", libName)
+        .add("nativeLib", nativeLib)
+        .add("bytecodeLib", bytecodeLib)
+        .add("cLibs", cLibs)
+        .add("bytecodeOnly", bytecodeOnly)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PrebuiltOcamlLibraryDescriptionArg instance
+   */
+  static PrebuiltOcamlLibraryDescriptionArg copyOf(PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg instance) {
+    if (instance instanceof PrebuiltOcamlLibraryDescriptionArg) {
+      return (PrebuiltOcamlLibraryDescriptionArg) instance;
+    }
+    return PrebuiltOcamlLibraryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PrebuiltOcamlLibraryDescriptionArg PrebuiltOcamlLibraryDescriptionArg}.
+   * @return A new PrebuiltOcamlLibraryDescriptionArg builder
+   */
+  public static PrebuiltOcamlLibraryDescriptionArg.Builder builder() {
+    return new PrebuiltOcamlLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PrebuiltOcamlLibraryDescriptionArg PrebuiltOcamlLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_BYTECODE_ONLY = 0x1L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable String libDir;
+    private @Nullable String includeDir;
+    private @Nullable String libName;
+    private @Nullable String nativeLib;
+    private @Nullable String bytecodeLib;
+    private ImmutableList.Builder<String> cLibs = ImmutableList.builder();
+    private boolean bytecodeOnly;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PrebuiltOcamlLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PrebuiltOcamlLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPrebuiltOcamlLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg) {
+        PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg instance = (PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg) object;
+        setBytecodeOnly(instance.getBytecodeOnly());
+        setIncludeDir(instance.getIncludeDir());
+        addAllCLibs(instance.getCLibs());
+        setLibName(instance.getLibName());
+        setLibDir(instance.getLibDir());
+        setNativeLib(instance.getNativeLib());
+        setBytecodeLib(instance.getBytecodeLib());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLibDir() libDir} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLibDir() libDir}.</em>
+     * @param libDir The value for libDir 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLibDir(String libDir) {
+      this.libDir = Objects.requireNonNull(libDir, "libDir");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getIncludeDir() includeDir} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getIncludeDir() includeDir}.</em>
+     * @param includeDir The value for includeDir 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludeDir(String includeDir) {
+      this.includeDir = Objects.requireNonNull(includeDir, "includeDir");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLibName() libName} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLibName() libName}.</em>
+     * @param libName The value for libName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLibName(String libName) {
+      this.libName = Objects.requireNonNull(libName, "libName");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getNativeLib() nativeLib} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getNativeLib() nativeLib}.</em>
+     * @param nativeLib The value for nativeLib 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeLib(String nativeLib) {
+      this.nativeLib = Objects.requireNonNull(nativeLib, "nativeLib");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getBytecodeLib() bytecodeLib} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getBytecodeLib() bytecodeLib}.</em>
+     * @param bytecodeLib The value for bytecodeLib 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBytecodeLib(String bytecodeLib) {
+      this.bytecodeLib = Objects.requireNonNull(bytecodeLib, "bytecodeLib");
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getCLibs() cLibs} list.
+     * @param element A cLibs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCLibs(String element) {
+      this.cLibs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getCLibs() cLibs} list.
+     * @param elements An array of cLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCLibs(String... elements) {
+      this.cLibs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getCLibs() cLibs} list.
+     * @param elements An iterable of cLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCLibs(Iterable<String> elements) {
+      this.cLibs = ImmutableList.builder();
+      return addAllCLibs(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getCLibs() cLibs} list.
+     * @param elements An iterable of cLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCLibs(Iterable<String> elements) {
+      this.cLibs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getBytecodeOnly() bytecodeOnly} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getBytecodeOnly() bytecodeOnly}.</em>
+     * @param bytecodeOnly The value for bytecodeOnly 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBytecodeOnly(boolean bytecodeOnly) {
+      this.bytecodeOnly = bytecodeOnly;
+      optBits |= OPT_BIT_BYTECODE_ONLY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltOcamlLibraryDescription.AbstractPrebuiltOcamlLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PrebuiltOcamlLibraryDescriptionArg PrebuiltOcamlLibraryDescriptionArg}.
+     * @return An immutable instance of PrebuiltOcamlLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PrebuiltOcamlLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PrebuiltOcamlLibraryDescriptionArg(this);
+    }
+
+    private boolean bytecodeOnlyIsSet() {
+      return (optBits & OPT_BIT_BYTECODE_ONLY) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build PrebuiltOcamlLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,2003 @@
+package com.facebook.buck.parser.options;
+
+import com.facebook.buck.io.Watchman;
+import com.facebook.buck.io.filesystem.PathOrGlobMatcher;
+import com.facebook.buck.rules.Description;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractProjectBuildFileParserOptions}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ProjectBuildFileParserOptions.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractProjectBuildFileParserOptions"})
+@Immutable
+public final class ProjectBuildFileParserOptions
+    extends AbstractProjectBuildFileParserOptions {
+  private final Path projectRoot;
+  private final ImmutableMap<String, Path> cellRoots;
+  private final String pythonInterpreter;
+  private final @Nullable String pythonModuleSearchPath;
+  private final boolean allowEmptyGlobs;
+  private final ImmutableSet<PathOrGlobMatcher> ignorePaths;
+  private final String buildFileName;
+  private final ImmutableList<String> defaultIncludes;
+  private final ImmutableSet<Description<?>> descriptions;
+  private final ImmutableMap<String, ImmutableMap<String, String>> rawConfig;
+  private final String cellName;
+  private final boolean useWatchmanGlob;
+  private final boolean watchmanGlobStatResults;
+  private final boolean watchmanUseGlobGenerator;
+  private final Watchman watchman;
+  private final boolean useMercurialGlob;
+  private final boolean freezeGlobals;
+  private final boolean enableProfiling;
+  private final @Nullable Long watchmanQueryTimeoutMs;
+  private final ImmutableList<String> buildFileImportWhitelist;
+
+  private ProjectBuildFileParserOptions(ProjectBuildFileParserOptions.Builder builder) {
+    this.projectRoot = builder.projectRoot;
+    this.cellRoots = builder.cellRoots.build();
+    this.pythonInterpreter = builder.pythonInterpreter;
+    this.pythonModuleSearchPath = builder.pythonModuleSearchPath;
+    this.allowEmptyGlobs = builder.allowEmptyGlobs;
+    this.ignorePaths = builder.ignorePaths.build();
+    this.buildFileName = builder.buildFileName;
+    this.defaultIncludes = builder.defaultIncludes.build();
+    this.descriptions = builder.descriptions.build();
+    this.rawConfig = builder.rawConfig.build();
+    this.watchmanQueryTimeoutMs = builder.watchmanQueryTimeoutMs;
+    this.buildFileImportWhitelist = builder.buildFileImportWhitelist.build();
+    if (builder.cellName != null) {
+      initShim.setCellName(builder.cellName);
+    }
+    if (builder.useWatchmanGlobIsSet()) {
+      initShim.setUseWatchmanGlob(builder.useWatchmanGlob);
+    }
+    if (builder.watchmanGlobStatResultsIsSet()) {
+      initShim.setWatchmanGlobStatResults(builder.watchmanGlobStatResults);
+    }
+    if (builder.watchmanUseGlobGeneratorIsSet()) {
+      initShim.setWatchmanUseGlobGenerator(builder.watchmanUseGlobGenerator);
+    }
+    if (builder.watchman != null) {
+      initShim.setWatchman(builder.watchman);
+    }
+    if (builder.useMercurialGlobIsSet()) {
+      initShim.setUseMercurialGlob(builder.useMercurialGlob);
+    }
+    if (builder.freezeGlobalsIsSet()) {
+      initShim.setFreezeGlobals(builder.freezeGlobals);
+    }
+    if (builder.enableProfilingIsSet()) {
+      initShim.setEnableProfiling(builder.enableProfiling);
+    }
+    this.cellName = initShim.getCellName();
+    this.useWatchmanGlob = initShim.getUseWatchmanGlob();
+    this.watchmanGlobStatResults = initShim.getWatchmanGlobStatResults();
+    this.watchmanUseGlobGenerator = initShim.getWatchmanUseGlobGenerator();
+    this.watchman = initShim.getWatchman();
+    this.useMercurialGlob = initShim.getUseMercurialGlob();
+    this.freezeGlobals = initShim.getFreezeGlobals();
+    this.enableProfiling = initShim.getEnableProfiling();
+    this.initShim = null;
+  }
+
+  private ProjectBuildFileParserOptions(
+      Path projectRoot,
+      ImmutableMap<String, Path> cellRoots,
+      String pythonInterpreter,
+      @Nullable String pythonModuleSearchPath,
+      boolean allowEmptyGlobs,
+      ImmutableSet<PathOrGlobMatcher> ignorePaths,
+      String buildFileName,
+      ImmutableList<String> defaultIncludes,
+      ImmutableSet<Description<?>> descriptions,
+      ImmutableMap<String, ImmutableMap<String, String>> rawConfig,
+      String cellName,
+      boolean useWatchmanGlob,
+      boolean watchmanGlobStatResults,
+      boolean watchmanUseGlobGenerator,
+      Watchman watchman,
+      boolean useMercurialGlob,
+      boolean freezeGlobals,
+      boolean enableProfiling,
+      @Nullable Long watchmanQueryTimeoutMs,
+      ImmutableList<String> buildFileImportWhitelist) {
+    this.projectRoot = projectRoot;
+    this.cellRoots = cellRoots;
+    this.pythonInterpreter = pythonInterpreter;
+    this.pythonModuleSearchPath = pythonModuleSearchPath;
+    this.allowEmptyGlobs = allowEmptyGlobs;
+    this.ignorePaths = ignorePaths;
+    this.buildFileName = buildFileName;
+    this.defaultIncludes = defaultIncludes;
+    this.descriptions = descriptions;
+    this.rawConfig = rawConfig;
+    this.cellName = cellName;
+    this.useWatchmanGlob = useWatchmanGlob;
+    this.watchmanGlobStatResults = watchmanGlobStatResults;
+    this.watchmanUseGlobGenerator = watchmanUseGlobGenerator;
+    this.watchman = watchman;
+    this.useMercurialGlob = useMercurialGlob;
+    this.freezeGlobals = freezeGlobals;
+    this.enableProfiling = enableProfiling;
+    this.watchmanQueryTimeoutMs = watchmanQueryTimeoutMs;
+    this.buildFileImportWhitelist = buildFileImportWhitelist;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private String cellName;
+    private int cellNameBuildStage;
+
+    String getCellName() {
+      if (cellNameBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (cellNameBuildStage == STAGE_UNINITIALIZED) {
+        cellNameBuildStage = STAGE_INITIALIZING;
+        this.cellName = Objects.requireNonNull(ProjectBuildFileParserOptions.super.getCellName(), "cellName");
+        cellNameBuildStage = STAGE_INITIALIZED;
+      }
+      return this.cellName;
+    }
+
+    void setCellName(String cellName) {
+      this.cellName = cellName;
+      cellNameBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean useWatchmanGlob;
+    private int useWatchmanGlobBuildStage;
+
+    boolean getUseWatchmanGlob() {
+      if (useWatchmanGlobBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (useWatchmanGlobBuildStage == STAGE_UNINITIALIZED) {
+        useWatchmanGlobBuildStage = STAGE_INITIALIZING;
+        this.useWatchmanGlob = ProjectBuildFileParserOptions.super.getUseWatchmanGlob();
+        useWatchmanGlobBuildStage = STAGE_INITIALIZED;
+      }
+      return this.useWatchmanGlob;
+    }
+
+    void setUseWatchmanGlob(boolean useWatchmanGlob) {
+      this.useWatchmanGlob = useWatchmanGlob;
+      useWatchmanGlobBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean watchmanGlobStatResults;
+    private int watchmanGlobStatResultsBuildStage;
+
+    boolean getWatchmanGlobStatResults() {
+      if (watchmanGlobStatResultsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (watchmanGlobStatResultsBuildStage == STAGE_UNINITIALIZED) {
+        watchmanGlobStatResultsBuildStage = STAGE_INITIALIZING;
+        this.watchmanGlobStatResults = ProjectBuildFileParserOptions.super.getWatchmanGlobStatResults();
+        watchmanGlobStatResultsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.watchmanGlobStatResults;
+    }
+
+    void setWatchmanGlobStatResults(boolean watchmanGlobStatResults) {
+      this.watchmanGlobStatResults = watchmanGlobStatResults;
+      watchmanGlobStatResultsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean watchmanUseGlobGenerator;
+    private int watchmanUseGlobGeneratorBuildStage;
+
+    boolean getWatchmanUseGlobGenerator() {
+      if (watchmanUseGlobGeneratorBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (watchmanUseGlobGeneratorBuildStage == STAGE_UNINITIALIZED) {
+        watchmanUseGlobGeneratorBuildStage = STAGE_INITIALIZING;
+        this.watchmanUseGlobGenerator = ProjectBuildFileParserOptions.super.getWatchmanUseGlobGenerator();
+        watchmanUseGlobGeneratorBuildStage = STAGE_INITIALIZED;
+      }
+      return this.watchmanUseGlobGenerator;
+    }
+
+    void setWatchmanUseGlobGenerator(boolean watchmanUseGlobGenerator) {
+      this.watchmanUseGlobGenerator = watchmanUseGlobGenerator;
+      watchmanUseGlobGeneratorBuildStage = STAGE_INITIALIZED;
+    }
+    private Watchman watchman;
+    private int watchmanBuildStage;
+
+    Watchman getWatchman() {
+      if (watchmanBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (watchmanBuildStage == STAGE_UNINITIALIZED) {
+        watchmanBuildStage = STAGE_INITIALIZING;
+        this.watchman = Objects.requireNonNull(ProjectBuildFileParserOptions.super.getWatchman(), "watchman");
+        watchmanBuildStage = STAGE_INITIALIZED;
+      }
+      return this.watchman;
+    }
+
+    void setWatchman(Watchman watchman) {
+      this.watchman = watchman;
+      watchmanBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean useMercurialGlob;
+    private int useMercurialGlobBuildStage;
+
+    boolean getUseMercurialGlob() {
+      if (useMercurialGlobBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (useMercurialGlobBuildStage == STAGE_UNINITIALIZED) {
+        useMercurialGlobBuildStage = STAGE_INITIALIZING;
+        this.useMercurialGlob = ProjectBuildFileParserOptions.super.getUseMercurialGlob();
+        useMercurialGlobBuildStage = STAGE_INITIALIZED;
+      }
+      return this.useMercurialGlob;
+    }
+
+    void setUseMercurialGlob(boolean useMercurialGlob) {
+      this.useMercurialGlob = useMercurialGlob;
+      useMercurialGlobBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean freezeGlobals;
+    private int freezeGlobalsBuildStage;
+
+    boolean getFreezeGlobals() {
+      if (freezeGlobalsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (freezeGlobalsBuildStage == STAGE_UNINITIALIZED) {
+        freezeGlobalsBuildStage = STAGE_INITIALIZING;
+        this.freezeGlobals = ProjectBuildFileParserOptions.super.getFreezeGlobals();
+        freezeGlobalsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.freezeGlobals;
+    }
+
+    void setFreezeGlobals(boolean freezeGlobals) {
+      this.freezeGlobals = freezeGlobals;
+      freezeGlobalsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean enableProfiling;
+    private int enableProfilingBuildStage;
+
+    boolean getEnableProfiling() {
+      if (enableProfilingBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (enableProfilingBuildStage == STAGE_UNINITIALIZED) {
+        enableProfilingBuildStage = STAGE_INITIALIZING;
+        this.enableProfiling = ProjectBuildFileParserOptions.super.getEnableProfiling();
+        enableProfilingBuildStage = STAGE_INITIALIZED;
+      }
+      return this.enableProfiling;
+    }
+
+    void setEnableProfiling(boolean enableProfiling) {
+      this.enableProfiling = enableProfiling;
+      enableProfilingBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (cellNameBuildStage == STAGE_INITIALIZING) attributes.add("cellName");
+      if (useWatchmanGlobBuildStage == STAGE_INITIALIZING) attributes.add("useWatchmanGlob");
+      if (watchmanGlobStatResultsBuildStage == STAGE_INITIALIZING) attributes.add("watchmanGlobStatResults");
+      if (watchmanUseGlobGeneratorBuildStage == STAGE_INITIALIZING) attributes.add("watchmanUseGlobGenerator");
+      if (watchmanBuildStage == STAGE_INITIALIZING) attributes.add("watchman");
+      if (useMercurialGlobBuildStage == STAGE_INITIALIZING) attributes.add("useMercurialGlob");
+      if (freezeGlobalsBuildStage == STAGE_INITIALIZING) attributes.add("freezeGlobals");
+      if (enableProfilingBuildStage == STAGE_INITIALIZING) attributes.add("enableProfiling");
+      return "Cannot build ProjectBuildFileParserOptions, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code projectRoot} attribute
+   */
+  @Override
+  public Path getProjectRoot() {
+    return projectRoot;
+  }
+
+  /**
+   * @return The value of the {@code cellRoots} attribute
+   */
+  @Override
+  public ImmutableMap<String, Path> getCellRoots() {
+    return cellRoots;
+  }
+
+  /**
+   * @return The value of the {@code pythonInterpreter} attribute
+   */
+  @Override
+  public String getPythonInterpreter() {
+    return pythonInterpreter;
+  }
+
+  /**
+   * @return The value of the {@code pythonModuleSearchPath} attribute
+   */
+  @Override
+  public Optional<String> getPythonModuleSearchPath() {
+    return Optional.ofNullable(pythonModuleSearchPath);
+  }
+
+  /**
+   * @return The value of the {@code allowEmptyGlobs} attribute
+   */
+  @Override
+  public boolean getAllowEmptyGlobs() {
+    return allowEmptyGlobs;
+  }
+
+  /**
+   * @return The value of the {@code ignorePaths} attribute
+   */
+  @Override
+  public ImmutableSet<PathOrGlobMatcher> getIgnorePaths() {
+    return ignorePaths;
+  }
+
+  /**
+   * @return The value of the {@code buildFileName} attribute
+   */
+  @Override
+  public String getBuildFileName() {
+    return buildFileName;
+  }
+
+  /**
+   * @return The value of the {@code defaultIncludes} attribute
+   */
+  @Override
+  public ImmutableList<String> getDefaultIncludes() {
+    return defaultIncludes;
+  }
+
+  /**
+   * @return The value of the {@code descriptions} attribute
+   */
+  @Override
+  public ImmutableSet<Description<?>> getDescriptions() {
+    return descriptions;
+  }
+
+  /**
+   * @return The value of the {@code rawConfig} attribute
+   */
+  @Override
+  public ImmutableMap<String, ImmutableMap<String, String>> getRawConfig() {
+    return rawConfig;
+  }
+
+  /**
+   * @return The value of the {@code cellName} attribute
+   */
+  @Override
+  public String getCellName() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCellName()
+        : this.cellName;
+  }
+
+  /**
+   * @return The value of the {@code useWatchmanGlob} attribute
+   */
+  @Override
+  public boolean getUseWatchmanGlob() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getUseWatchmanGlob()
+        : this.useWatchmanGlob;
+  }
+
+  /**
+   * @return The value of the {@code watchmanGlobStatResults} attribute
+   */
+  @Override
+  public boolean getWatchmanGlobStatResults() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getWatchmanGlobStatResults()
+        : this.watchmanGlobStatResults;
+  }
+
+  /**
+   * @return The value of the {@code watchmanUseGlobGenerator} attribute
+   */
+  @Override
+  public boolean getWatchmanUseGlobGenerator() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getWatchmanUseGlobGenerator()
+        : this.watchmanUseGlobGenerator;
+  }
+
+  /**
+   * @return The value of the {@code watchman} attribute
+   */
+  @Override
+  public Watchman getWatchman() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getWatchman()
+        : this.watchman;
+  }
+
+  /**
+   * @return The value of the {@code useMercurialGlob} attribute
+   */
+  @Override
+  public boolean getUseMercurialGlob() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getUseMercurialGlob()
+        : this.useMercurialGlob;
+  }
+
+  /**
+   * @return The value of the {@code freezeGlobals} attribute
+   */
+  @Override
+  public boolean getFreezeGlobals() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getFreezeGlobals()
+        : this.freezeGlobals;
+  }
+
+  /**
+   * @return The value of the {@code enableProfiling} attribute
+   */
+  @Override
+  public boolean getEnableProfiling() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getEnableProfiling()
+        : this.enableProfiling;
+  }
+
+  /**
+   * @return The value of the {@code watchmanQueryTimeoutMs} attribute
+   */
+  @Override
+  public Optional<Long> getWatchmanQueryTimeoutMs() {
+    return Optional.ofNullable(watchmanQueryTimeoutMs);
+  }
+
+  /**
+   * @return The value of the {@code buildFileImportWhitelist} attribute
+   */
+  @Override
+  public ImmutableList<String> getBuildFileImportWhitelist() {
+    return buildFileImportWhitelist;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProjectBuildFileParserOptions#getProjectRoot() projectRoot} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectRoot
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withProjectRoot(Path value) {
+    if (this.projectRoot == value) return this;
+    Path newValue = Objects.requireNonNull(value, "projectRoot");
+    return new ProjectBuildFileParserOptions(
+        newValue,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractProjectBuildFileParserOptions#getCellRoots() cellRoots} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the cellRoots map
+   * @return A modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withCellRoots(Map<String, ? extends Path> entries) {
+    if (this.cellRoots == entries) return this;
+    ImmutableMap<String, Path> newValue = ImmutableMap.copyOf(entries);
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        newValue,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProjectBuildFileParserOptions#getPythonInterpreter() pythonInterpreter} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for pythonInterpreter
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withPythonInterpreter(String value) {
+    if (this.pythonInterpreter.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "pythonInterpreter");
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        newValue,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractProjectBuildFileParserOptions#getPythonModuleSearchPath() pythonModuleSearchPath} attribute.
+   * @param value The value for pythonModuleSearchPath
+   * @return A modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withPythonModuleSearchPath(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "pythonModuleSearchPath");
+    if (Objects.equals(this.pythonModuleSearchPath, newValue)) return this;
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        newValue,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractProjectBuildFileParserOptions#getPythonModuleSearchPath() pythonModuleSearchPath} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for pythonModuleSearchPath
+   * @return A modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withPythonModuleSearchPath(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.pythonModuleSearchPath, value)) return this;
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        value,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProjectBuildFileParserOptions#getAllowEmptyGlobs() allowEmptyGlobs} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for allowEmptyGlobs
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withAllowEmptyGlobs(boolean value) {
+    if (this.allowEmptyGlobs == value) return this;
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        value,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractProjectBuildFileParserOptions#getIgnorePaths() ignorePaths}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withIgnorePaths(PathOrGlobMatcher... elements) {
+    ImmutableSet<PathOrGlobMatcher> newValue = ImmutableSet.copyOf(elements);
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        newValue,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractProjectBuildFileParserOptions#getIgnorePaths() ignorePaths}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of ignorePaths elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withIgnorePaths(Iterable<? extends PathOrGlobMatcher> elements) {
+    if (this.ignorePaths == elements) return this;
+    ImmutableSet<PathOrGlobMatcher> newValue = ImmutableSet.copyOf(elements);
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        newValue,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProjectBuildFileParserOptions#getBuildFileName() buildFileName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildFileName
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withBuildFileName(String value) {
+    if (this.buildFileName.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "buildFileName");
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        newValue,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractProjectBuildFileParserOptions#getDefaultIncludes() defaultIncludes}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withDefaultIncludes(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        newValue,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractProjectBuildFileParserOptions#getDefaultIncludes() defaultIncludes}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of defaultIncludes elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withDefaultIncludes(Iterable<String> elements) {
+    if (this.defaultIncludes == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        newValue,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractProjectBuildFileParserOptions#getDescriptions() descriptions}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  @SafeVarargs @SuppressWarnings("varargs")
+  public final ProjectBuildFileParserOptions withDescriptions(Description<?>... elements) {
+    ImmutableSet<Description<?>> newValue = ImmutableSet.copyOf(elements);
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        newValue,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractProjectBuildFileParserOptions#getDescriptions() descriptions}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of descriptions elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withDescriptions(Iterable<? extends Description<?>> elements) {
+    if (this.descriptions == elements) return this;
+    ImmutableSet<Description<?>> newValue = ImmutableSet.copyOf(elements);
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        newValue,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractProjectBuildFileParserOptions#getRawConfig() rawConfig} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the rawConfig map
+   * @return A modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withRawConfig(Map<String, ? extends ImmutableMap<String, String>> entries) {
+    if (this.rawConfig == entries) return this;
+    ImmutableMap<String, ImmutableMap<String, String>> newValue = ImmutableMap.copyOf(entries);
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        newValue,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProjectBuildFileParserOptions#getCellName() cellName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cellName
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withCellName(String value) {
+    if (this.cellName.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "cellName");
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        newValue,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProjectBuildFileParserOptions#getUseWatchmanGlob() useWatchmanGlob} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for useWatchmanGlob
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withUseWatchmanGlob(boolean value) {
+    if (this.useWatchmanGlob == value) return this;
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        value,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProjectBuildFileParserOptions#getWatchmanGlobStatResults() watchmanGlobStatResults} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for watchmanGlobStatResults
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withWatchmanGlobStatResults(boolean value) {
+    if (this.watchmanGlobStatResults == value) return this;
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        value,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProjectBuildFileParserOptions#getWatchmanUseGlobGenerator() watchmanUseGlobGenerator} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for watchmanUseGlobGenerator
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withWatchmanUseGlobGenerator(boolean value) {
+    if (this.watchmanUseGlobGenerator == value) return this;
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        value,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProjectBuildFileParserOptions#getWatchman() watchman} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for watchman
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withWatchman(Watchman value) {
+    if (this.watchman == value) return this;
+    Watchman newValue = Objects.requireNonNull(value, "watchman");
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        newValue,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProjectBuildFileParserOptions#getUseMercurialGlob() useMercurialGlob} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for useMercurialGlob
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withUseMercurialGlob(boolean value) {
+    if (this.useMercurialGlob == value) return this;
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        value,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProjectBuildFileParserOptions#getFreezeGlobals() freezeGlobals} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for freezeGlobals
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withFreezeGlobals(boolean value) {
+    if (this.freezeGlobals == value) return this;
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        value,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProjectBuildFileParserOptions#getEnableProfiling() enableProfiling} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for enableProfiling
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withEnableProfiling(boolean value) {
+    if (this.enableProfiling == value) return this;
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        value,
+        this.watchmanQueryTimeoutMs,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractProjectBuildFileParserOptions#getWatchmanQueryTimeoutMs() watchmanQueryTimeoutMs} attribute.
+   * @param value The value for watchmanQueryTimeoutMs
+   * @return A modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withWatchmanQueryTimeoutMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.watchmanQueryTimeoutMs, newValue)) return this;
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        newValue,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractProjectBuildFileParserOptions#getWatchmanQueryTimeoutMs() watchmanQueryTimeoutMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for watchmanQueryTimeoutMs
+   * @return A modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withWatchmanQueryTimeoutMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.watchmanQueryTimeoutMs, value)) return this;
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        value,
+        this.buildFileImportWhitelist);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractProjectBuildFileParserOptions#getBuildFileImportWhitelist() buildFileImportWhitelist}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withBuildFileImportWhitelist(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractProjectBuildFileParserOptions#getBuildFileImportWhitelist() buildFileImportWhitelist}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of buildFileImportWhitelist elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withBuildFileImportWhitelist(Iterable<String> elements) {
+    if (this.buildFileImportWhitelist == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ProjectBuildFileParserOptions(
+        this.projectRoot,
+        this.cellRoots,
+        this.pythonInterpreter,
+        this.pythonModuleSearchPath,
+        this.allowEmptyGlobs,
+        this.ignorePaths,
+        this.buildFileName,
+        this.defaultIncludes,
+        this.descriptions,
+        this.rawConfig,
+        this.cellName,
+        this.useWatchmanGlob,
+        this.watchmanGlobStatResults,
+        this.watchmanUseGlobGenerator,
+        this.watchman,
+        this.useMercurialGlob,
+        this.freezeGlobals,
+        this.enableProfiling,
+        this.watchmanQueryTimeoutMs,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ProjectBuildFileParserOptions} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ProjectBuildFileParserOptions
+        && equalTo((ProjectBuildFileParserOptions) another);
+  }
+
+  private boolean equalTo(ProjectBuildFileParserOptions another) {
+    return projectRoot.equals(another.projectRoot)
+        && cellRoots.equals(another.cellRoots)
+        && pythonInterpreter.equals(another.pythonInterpreter)
+        && Objects.equals(pythonModuleSearchPath, another.pythonModuleSearchPath)
+        && allowEmptyGlobs == another.allowEmptyGlobs
+        && ignorePaths.equals(another.ignorePaths)
+        && buildFileName.equals(another.buildFileName)
+        && defaultIncludes.equals(another.defaultIncludes)
+        && descriptions.equals(another.descriptions)
+        && rawConfig.equals(another.rawConfig)
+        && cellName.equals(another.cellName)
+        && useWatchmanGlob == another.useWatchmanGlob
+        && watchmanGlobStatResults == another.watchmanGlobStatResults
+        && watchmanUseGlobGenerator == another.watchmanUseGlobGenerator
+        && watchman.equals(another.watchman)
+        && useMercurialGlob == another.useMercurialGlob
+        && freezeGlobals == another.freezeGlobals
+        && enableProfiling == another.enableProfiling
+        && Objects.equals(watchmanQueryTimeoutMs, another.watchmanQueryTimeoutMs)
+        && buildFileImportWhitelist.equals(another.buildFileImportWhitelist);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code projectRoot}, {@code cellRoots}, {@code pythonInterpreter}, {@code pythonModuleSearchPath}, {@code allowEmptyGlobs}, {@code ignorePaths}, {@code buildFileName}, {@code defaultIncludes}, {@code descriptions}, {@code rawConfig}, {@code cellName}, {@code useWatchmanGlob}, {@code watchmanGlobStatResults}, {@code watchmanUseGlobGenerator}, {@code watchman}, {@code useMercurialGlob}, {@code freezeGlobals}, {@code enableProfiling}, {@code watchmanQueryTimeoutMs}, {@code buildFileImportWhitelist}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + projectRoot.hashCode();
+    h += (h << 5) + cellRoots.hashCode();
+    h += (h << 5) + pythonInterpreter.hashCode();
+    h += (h << 5) + Objects.hashCode(pythonModuleSearchPath);
+    h += (h << 5) + Booleans.hashCode(allowEmptyGlobs);
+    h += (h << 5) + ignorePaths.hashCode();
+    h += (h << 5) + buildFileName.hashCode();
+    h += (h << 5) + defaultIncludes.hashCode();
+    h += (h << 5) + descriptions.hashCode();
+    h += (h << 5) + rawConfig.hashCode();
+    h += (h << 5) + cellName.hashCode();
+    h += (h << 5) + Booleans.hashCode(useWatchmanGlob);
+    h += (h << 5) + Booleans.hashCode(watchmanGlobStatResults);
+    h += (h << 5) + Booleans.hashCode(watchmanUseGlobGenerator);
+    h += (h << 5) + watchman.hashCode();
+    h += (h << 5) + Booleans.hashCode(useMercurialGlob);
+    h += (h << 5) + Booleans.hashCode(freezeGlobals);
+    h += (h << 5) + Booleans.hashCode(enableProfiling);
+    h += (h << 5) + Objects.hashCode(watchmanQueryTimeoutMs);
+    h += (h << 5) + buildFileImportWhitelist.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ProjectBuildFileParserOptions} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProjectBuildFileParserOptions")
+        .omitNullValues()
+        .add("projectRoot", projectRoot)
+        .add("cellRoots", cellRoots)
+        .add("pythonInterpreter", pythonInterpreter)
+        .add("pythonModuleSearchPath", pythonModuleSearchPath)
+        .add("allowEmptyGlobs", allowEmptyGlobs)
+        .add("ignorePaths", ignorePaths)
+        .add("buildFileName", buildFileName)
+        .add("defaultIncludes", defaultIncludes)
+        .add("descriptions", descriptions)
+        .add("rawConfig", rawConfig)
+        .add("cellName", cellName)
+        .add("useWatchmanGlob", useWatchmanGlob)
+        .add("watchmanGlobStatResults", watchmanGlobStatResults)
+        .add("watchmanUseGlobGenerator", watchmanUseGlobGenerator)
+        .add("watchman", watchman)
+        .add("useMercurialGlob", useMercurialGlob)
+        .add("freezeGlobals", freezeGlobals)
+        .add("enableProfiling", enableProfiling)
+        .add("watchmanQueryTimeoutMs", watchmanQueryTimeoutMs)
+        .add("buildFileImportWhitelist", buildFileImportWhitelist)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractProjectBuildFileParserOptions} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ProjectBuildFileParserOptions instance
+   */
+  static ProjectBuildFileParserOptions copyOf(AbstractProjectBuildFileParserOptions instance) {
+    if (instance instanceof ProjectBuildFileParserOptions) {
+      return (ProjectBuildFileParserOptions) instance;
+    }
+    return ProjectBuildFileParserOptions.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ProjectBuildFileParserOptions ProjectBuildFileParserOptions}.
+   * @return A new ProjectBuildFileParserOptions builder
+   */
+  public static ProjectBuildFileParserOptions.Builder builder() {
+    return new ProjectBuildFileParserOptions.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ProjectBuildFileParserOptions ProjectBuildFileParserOptions}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PROJECT_ROOT = 0x1L;
+    private static final long INIT_BIT_PYTHON_INTERPRETER = 0x2L;
+    private static final long INIT_BIT_ALLOW_EMPTY_GLOBS = 0x4L;
+    private static final long INIT_BIT_BUILD_FILE_NAME = 0x8L;
+    private static final long OPT_BIT_USE_WATCHMAN_GLOB = 0x1L;
+    private static final long OPT_BIT_WATCHMAN_GLOB_STAT_RESULTS = 0x2L;
+    private static final long OPT_BIT_WATCHMAN_USE_GLOB_GENERATOR = 0x4L;
+    private static final long OPT_BIT_USE_MERCURIAL_GLOB = 0x8L;
+    private static final long OPT_BIT_FREEZE_GLOBALS = 0x10L;
+    private static final long OPT_BIT_ENABLE_PROFILING = 0x20L;
+    private long initBits = 0xfL;
+    private long optBits;
+
+    private @Nullable Path projectRoot;
+    private ImmutableMap.Builder<String, Path> cellRoots = ImmutableMap.builder();
+    private @Nullable String pythonInterpreter;
+    private @Nullable String pythonModuleSearchPath;
+    private boolean allowEmptyGlobs;
+    private ImmutableSet.Builder<PathOrGlobMatcher> ignorePaths = ImmutableSet.builder();
+    private @Nullable String buildFileName;
+    private ImmutableList.Builder<String> defaultIncludes = ImmutableList.builder();
+    private ImmutableSet.Builder<Description<?>> descriptions = ImmutableSet.builder();
+    private ImmutableMap.Builder<String, ImmutableMap<String, String>> rawConfig = ImmutableMap.builder();
+    private @Nullable String cellName;
+    private boolean useWatchmanGlob;
+    private boolean watchmanGlobStatResults;
+    private boolean watchmanUseGlobGenerator;
+    private @Nullable Watchman watchman;
+    private boolean useMercurialGlob;
+    private boolean freezeGlobals;
+    private boolean enableProfiling;
+    private @Nullable Long watchmanQueryTimeoutMs;
+    private ImmutableList.Builder<String> buildFileImportWhitelist = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ProjectBuildFileParserOptions} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ProjectBuildFileParserOptions instance) {
+      return from((AbstractProjectBuildFileParserOptions) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractProjectBuildFileParserOptions} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractProjectBuildFileParserOptions instance) {
+      Objects.requireNonNull(instance, "instance");
+      setProjectRoot(instance.getProjectRoot());
+      putAllCellRoots(instance.getCellRoots());
+      setPythonInterpreter(instance.getPythonInterpreter());
+      Optional<String> pythonModuleSearchPathOptional = instance.getPythonModuleSearchPath();
+      if (pythonModuleSearchPathOptional.isPresent()) {
+        setPythonModuleSearchPath(pythonModuleSearchPathOptional);
+      }
+      setAllowEmptyGlobs(instance.getAllowEmptyGlobs());
+      addAllIgnorePaths(instance.getIgnorePaths());
+      setBuildFileName(instance.getBuildFileName());
+      addAllDefaultIncludes(instance.getDefaultIncludes());
+      addAllDescriptions(instance.getDescriptions());
+      putAllRawConfig(instance.getRawConfig());
+      setCellName(instance.getCellName());
+      setUseWatchmanGlob(instance.getUseWatchmanGlob());
+      setWatchmanGlobStatResults(instance.getWatchmanGlobStatResults());
+      setWatchmanUseGlobGenerator(instance.getWatchmanUseGlobGenerator());
+      setWatchman(instance.getWatchman());
+      setUseMercurialGlob(instance.getUseMercurialGlob());
+      setFreezeGlobals(instance.getFreezeGlobals());
+      setEnableProfiling(instance.getEnableProfiling());
+      Optional<Long> watchmanQueryTimeoutMsOptional = instance.getWatchmanQueryTimeoutMs();
+      if (watchmanQueryTimeoutMsOptional.isPresent()) {
+        setWatchmanQueryTimeoutMs(watchmanQueryTimeoutMsOptional);
+      }
+      addAllBuildFileImportWhitelist(instance.getBuildFileImportWhitelist());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProjectBuildFileParserOptions#getProjectRoot() projectRoot} attribute.
+     * @param projectRoot The value for projectRoot 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectRoot(Path projectRoot) {
+      this.projectRoot = Objects.requireNonNull(projectRoot, "projectRoot");
+      initBits &= ~INIT_BIT_PROJECT_ROOT;
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link AbstractProjectBuildFileParserOptions#getCellRoots() cellRoots} map.
+     * @param key The key in the cellRoots map
+     * @param value The associated value in the cellRoots map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putCellRoots(String key, Path value) {
+      this.cellRoots.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractProjectBuildFileParserOptions#getCellRoots() cellRoots} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putCellRoots(Map.Entry<String, ? extends Path> entry) {
+      this.cellRoots.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractProjectBuildFileParserOptions#getCellRoots() cellRoots} map. Nulls are not permitted
+     * @param cellRoots The entries that will be added to the cellRoots map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCellRoots(Map<String, ? extends Path> cellRoots) {
+      this.cellRoots = ImmutableMap.builder();
+      return putAllCellRoots(cellRoots);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractProjectBuildFileParserOptions#getCellRoots() cellRoots} map. Nulls are not permitted
+     * @param cellRoots The entries that will be added to the cellRoots map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllCellRoots(Map<String, ? extends Path> cellRoots) {
+      this.cellRoots.putAll(cellRoots);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProjectBuildFileParserOptions#getPythonInterpreter() pythonInterpreter} attribute.
+     * @param pythonInterpreter The value for pythonInterpreter 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPythonInterpreter(String pythonInterpreter) {
+      this.pythonInterpreter = Objects.requireNonNull(pythonInterpreter, "pythonInterpreter");
+      initBits &= ~INIT_BIT_PYTHON_INTERPRETER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractProjectBuildFileParserOptions#getPythonModuleSearchPath() pythonModuleSearchPath} to pythonModuleSearchPath.
+     * @param pythonModuleSearchPath The value for pythonModuleSearchPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPythonModuleSearchPath(String pythonModuleSearchPath) {
+      this.pythonModuleSearchPath = Objects.requireNonNull(pythonModuleSearchPath, "pythonModuleSearchPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractProjectBuildFileParserOptions#getPythonModuleSearchPath() pythonModuleSearchPath} to pythonModuleSearchPath.
+     * @param pythonModuleSearchPath The value for pythonModuleSearchPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPythonModuleSearchPath(Optional<String> pythonModuleSearchPath) {
+      this.pythonModuleSearchPath = pythonModuleSearchPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProjectBuildFileParserOptions#getAllowEmptyGlobs() allowEmptyGlobs} attribute.
+     * @param allowEmptyGlobs The value for allowEmptyGlobs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAllowEmptyGlobs(boolean allowEmptyGlobs) {
+      this.allowEmptyGlobs = allowEmptyGlobs;
+      initBits &= ~INIT_BIT_ALLOW_EMPTY_GLOBS;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractProjectBuildFileParserOptions#getIgnorePaths() ignorePaths} set.
+     * @param element A ignorePaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIgnorePaths(PathOrGlobMatcher element) {
+      this.ignorePaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractProjectBuildFileParserOptions#getIgnorePaths() ignorePaths} set.
+     * @param elements An array of ignorePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIgnorePaths(PathOrGlobMatcher... elements) {
+      this.ignorePaths.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractProjectBuildFileParserOptions#getIgnorePaths() ignorePaths} set.
+     * @param elements An iterable of ignorePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIgnorePaths(Iterable<? extends PathOrGlobMatcher> elements) {
+      this.ignorePaths = ImmutableSet.builder();
+      return addAllIgnorePaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractProjectBuildFileParserOptions#getIgnorePaths() ignorePaths} set.
+     * @param elements An iterable of ignorePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllIgnorePaths(Iterable<? extends PathOrGlobMatcher> elements) {
+      this.ignorePaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProjectBuildFileParserOptions#getBuildFileName() buildFileName} attribute.
+     * @param buildFileName The value for buildFileName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildFileName(String buildFileName) {
+      this.buildFileName = Objects.requireNonNull(buildFileName, "buildFileName");
+      initBits &= ~INIT_BIT_BUILD_FILE_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractProjectBuildFileParserOptions#getDefaultIncludes() defaultIncludes} list.
+     * @param element A defaultIncludes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDefaultIncludes(String element) {
+      this.defaultIncludes.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractProjectBuildFileParserOptions#getDefaultIncludes() defaultIncludes} list.
+     * @param elements An array of defaultIncludes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDefaultIncludes(String... elements) {
+      this.defaultIncludes.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractProjectBuildFileParserOptions#getDefaultIncludes() defaultIncludes} list.
+     * @param elements An iterable of defaultIncludes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDefaultIncludes(Iterable<String> elements) {
+      this.defaultIncludes = ImmutableList.builder();
+      return addAllDefaultIncludes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractProjectBuildFileParserOptions#getDefaultIncludes() defaultIncludes} list.
+     * @param elements An iterable of defaultIncludes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDefaultIncludes(Iterable<String> elements) {
+      this.defaultIncludes.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractProjectBuildFileParserOptions#getDescriptions() descriptions} set.
+     * @param element A descriptions element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDescriptions(Description<?> element) {
+      this.descriptions.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractProjectBuildFileParserOptions#getDescriptions() descriptions} set.
+     * @param elements An array of descriptions elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @SafeVarargs @SuppressWarnings("varargs")
+    public final Builder addDescriptions(Description<?>... elements) {
+      this.descriptions.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractProjectBuildFileParserOptions#getDescriptions() descriptions} set.
+     * @param elements An iterable of descriptions elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDescriptions(Iterable<? extends Description<?>> elements) {
+      this.descriptions = ImmutableSet.builder();
+      return addAllDescriptions(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractProjectBuildFileParserOptions#getDescriptions() descriptions} set.
+     * @param elements An iterable of descriptions elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDescriptions(Iterable<? extends Description<?>> elements) {
+      this.descriptions.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractProjectBuildFileParserOptions#getRawConfig() rawConfig} map.
+     * @param key The key in the rawConfig map
+     * @param value The associated value in the rawConfig map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putRawConfig(String key, ImmutableMap<String, String> value) {
+      this.rawConfig.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractProjectBuildFileParserOptions#getRawConfig() rawConfig} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putRawConfig(Map.Entry<String, ? extends ImmutableMap<String, String>> entry) {
+      this.rawConfig.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractProjectBuildFileParserOptions#getRawConfig() rawConfig} map. Nulls are not permitted
+     * @param rawConfig The entries that will be added to the rawConfig map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRawConfig(Map<String, ? extends ImmutableMap<String, String>> rawConfig) {
+      this.rawConfig = ImmutableMap.builder();
+      return putAllRawConfig(rawConfig);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractProjectBuildFileParserOptions#getRawConfig() rawConfig} map. Nulls are not permitted
+     * @param rawConfig The entries that will be added to the rawConfig map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllRawConfig(Map<String, ? extends ImmutableMap<String, String>> rawConfig) {
+      this.rawConfig.putAll(rawConfig);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProjectBuildFileParserOptions#getCellName() cellName} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractProjectBuildFileParserOptions#getCellName() cellName}.</em>
+     * @param cellName The value for cellName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCellName(String cellName) {
+      this.cellName = Objects.requireNonNull(cellName, "cellName");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProjectBuildFileParserOptions#getUseWatchmanGlob() useWatchmanGlob} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractProjectBuildFileParserOptions#getUseWatchmanGlob() useWatchmanGlob}.</em>
+     * @param useWatchmanGlob The value for useWatchmanGlob 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUseWatchmanGlob(boolean useWatchmanGlob) {
+      this.useWatchmanGlob = useWatchmanGlob;
+      optBits |= OPT_BIT_USE_WATCHMAN_GLOB;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProjectBuildFileParserOptions#getWatchmanGlobStatResults() watchmanGlobStatResults} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractProjectBuildFileParserOptions#getWatchmanGlobStatResults() watchmanGlobStatResults}.</em>
+     * @param watchmanGlobStatResults The value for watchmanGlobStatResults 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWatchmanGlobStatResults(boolean watchmanGlobStatResults) {
+      this.watchmanGlobStatResults = watchmanGlobStatResults;
+      optBits |= OPT_BIT_WATCHMAN_GLOB_STAT_RESULTS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProjectBuildFileParserOptions#getWatchmanUseGlobGenerator() watchmanUseGlobGenerator} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractProjectBuildFileParserOptions#getWatchmanUseGlobGenerator() watchmanUseGlobGenerator}.</em>
+     * @param watchmanUseGlobGenerator The value for watchmanUseGlobGenerator 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWatchmanUseGlobGenerator(boolean watchmanUseGlobGenerator) {
+      this.watchmanUseGlobGenerator = watchmanUseGlobGenerator;
+      optBits |= OPT_BIT_WATCHMAN_USE_GLOB_GENERATOR;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProjectBuildFileParserOptions#getWatchman() watchman} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractProjectBuildFileParserOptions#getWatchman() watchman}.</em>
+     * @param watchman The value for watchman 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWatchman(Watchman watchman) {
+      this.watchman = Objects.requireNonNull(watchman, "watchman");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProjectBuildFileParserOptions#getUseMercurialGlob() useMercurialGlob} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractProjectBuildFileParserOptions#getUseMercurialGlob() useMercurialGlob}.</em>
+     * @param useMercurialGlob The value for useMercurialGlob 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUseMercurialGlob(boolean useMercurialGlob) {
+      this.useMercurialGlob = useMercurialGlob;
+      optBits |= OPT_BIT_USE_MERCURIAL_GLOB;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProjectBuildFileParserOptions#getFreezeGlobals() freezeGlobals} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractProjectBuildFileParserOptions#getFreezeGlobals() freezeGlobals}.</em>
+     * @param freezeGlobals The value for freezeGlobals 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFreezeGlobals(boolean freezeGlobals) {
+      this.freezeGlobals = freezeGlobals;
+      optBits |= OPT_BIT_FREEZE_GLOBALS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProjectBuildFileParserOptions#getEnableProfiling() enableProfiling} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractProjectBuildFileParserOptions#getEnableProfiling() enableProfiling}.</em>
+     * @param enableProfiling The value for enableProfiling 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnableProfiling(boolean enableProfiling) {
+      this.enableProfiling = enableProfiling;
+      optBits |= OPT_BIT_ENABLE_PROFILING;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractProjectBuildFileParserOptions#getWatchmanQueryTimeoutMs() watchmanQueryTimeoutMs} to watchmanQueryTimeoutMs.
+     * @param watchmanQueryTimeoutMs The value for watchmanQueryTimeoutMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setWatchmanQueryTimeoutMs(long watchmanQueryTimeoutMs) {
+      this.watchmanQueryTimeoutMs = watchmanQueryTimeoutMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractProjectBuildFileParserOptions#getWatchmanQueryTimeoutMs() watchmanQueryTimeoutMs} to watchmanQueryTimeoutMs.
+     * @param watchmanQueryTimeoutMs The value for watchmanQueryTimeoutMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWatchmanQueryTimeoutMs(Optional<Long> watchmanQueryTimeoutMs) {
+      this.watchmanQueryTimeoutMs = watchmanQueryTimeoutMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractProjectBuildFileParserOptions#getBuildFileImportWhitelist() buildFileImportWhitelist} list.
+     * @param element A buildFileImportWhitelist element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBuildFileImportWhitelist(String element) {
+      this.buildFileImportWhitelist.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractProjectBuildFileParserOptions#getBuildFileImportWhitelist() buildFileImportWhitelist} list.
+     * @param elements An array of buildFileImportWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBuildFileImportWhitelist(String... elements) {
+      this.buildFileImportWhitelist.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractProjectBuildFileParserOptions#getBuildFileImportWhitelist() buildFileImportWhitelist} list.
+     * @param elements An iterable of buildFileImportWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildFileImportWhitelist(Iterable<String> elements) {
+      this.buildFileImportWhitelist = ImmutableList.builder();
+      return addAllBuildFileImportWhitelist(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractProjectBuildFileParserOptions#getBuildFileImportWhitelist() buildFileImportWhitelist} list.
+     * @param elements An iterable of buildFileImportWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllBuildFileImportWhitelist(Iterable<String> elements) {
+      this.buildFileImportWhitelist.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ProjectBuildFileParserOptions ProjectBuildFileParserOptions}.
+     * @return An immutable instance of ProjectBuildFileParserOptions
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ProjectBuildFileParserOptions build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ProjectBuildFileParserOptions(this);
+    }
+
+    private boolean useWatchmanGlobIsSet() {
+      return (optBits & OPT_BIT_USE_WATCHMAN_GLOB) != 0;
+    }
+
+    private boolean watchmanGlobStatResultsIsSet() {
+      return (optBits & OPT_BIT_WATCHMAN_GLOB_STAT_RESULTS) != 0;
+    }
+
+    private boolean watchmanUseGlobGeneratorIsSet() {
+      return (optBits & OPT_BIT_WATCHMAN_USE_GLOB_GENERATOR) != 0;
+    }
+
+    private boolean useMercurialGlobIsSet() {
+      return (optBits & OPT_BIT_USE_MERCURIAL_GLOB) != 0;
+    }
+
+    private boolean freezeGlobalsIsSet() {
+      return (optBits & OPT_BIT_FREEZE_GLOBALS) != 0;
+    }
+
+    private boolean enableProfilingIsSet() {
+      return (optBits & OPT_BIT_ENABLE_PROFILING) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_PROJECT_ROOT) != 0) attributes.add("projectRoot");
+      if ((initBits & INIT_BIT_PYTHON_INTERPRETER) != 0) attributes.add("pythonInterpreter");
+      if ((initBits & INIT_BIT_ALLOW_EMPTY_GLOBS) != 0) attributes.add("allowEmptyGlobs");
+      if ((initBits & INIT_BIT_BUILD_FILE_NAME) != 0) attributes.add("buildFileName");
+      return "Cannot build ProjectBuildFileParserOptions, some of required attributes are not set " + attributes;
+    }
+  }
+}
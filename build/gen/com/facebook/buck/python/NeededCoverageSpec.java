@@ -0,0 +1,185 @@
+package com.facebook.buck.python;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Floats;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractNeededCoverageSpec}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code NeededCoverageSpec.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNeededCoverageSpec"})
+@Immutable
+public final class NeededCoverageSpec extends AbstractNeededCoverageSpec {
+  private final float neededCoverageRatio;
+  private final BuildTarget buildTarget;
+  private final @Nullable String pathName;
+
+  private NeededCoverageSpec(
+      float neededCoverageRatio,
+      BuildTarget buildTarget,
+      Optional<String> pathName) {
+    this.neededCoverageRatio = neededCoverageRatio;
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.pathName = pathName.orElse(null);
+  }
+
+  private NeededCoverageSpec(
+      NeededCoverageSpec original,
+      float neededCoverageRatio,
+      BuildTarget buildTarget,
+      @Nullable String pathName) {
+    this.neededCoverageRatio = neededCoverageRatio;
+    this.buildTarget = buildTarget;
+    this.pathName = pathName;
+  }
+
+  /**
+   * @return The value of the {@code neededCoverageRatio} attribute
+   */
+  @Override
+  public float getNeededCoverageRatio() {
+    return neededCoverageRatio;
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code pathName} attribute
+   */
+  @Override
+  public Optional<String> getPathName() {
+    return Optional.ofNullable(pathName);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNeededCoverageSpec#getNeededCoverageRatio() neededCoverageRatio} attribute.
+   * A value strict bits equality used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for neededCoverageRatio
+   * @return A modified copy of the {@code this} object
+   */
+  public final NeededCoverageSpec withNeededCoverageRatio(float value) {
+    if (Float.floatToIntBits(this.neededCoverageRatio) == Float.floatToIntBits(value)) return this;
+    return new NeededCoverageSpec(this, value, this.buildTarget, this.pathName);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNeededCoverageSpec#getBuildTarget() buildTarget} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildTarget
+   * @return A modified copy of the {@code this} object
+   */
+  public final NeededCoverageSpec withBuildTarget(BuildTarget value) {
+    if (this.buildTarget == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "buildTarget");
+    return new NeededCoverageSpec(this, this.neededCoverageRatio, newValue, this.pathName);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNeededCoverageSpec#getPathName() pathName} attribute.
+   * @param value The value for pathName
+   * @return A modified copy of {@code this} object
+   */
+  public final NeededCoverageSpec withPathName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "pathName");
+    if (Objects.equals(this.pathName, newValue)) return this;
+    return new NeededCoverageSpec(this, this.neededCoverageRatio, this.buildTarget, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNeededCoverageSpec#getPathName() pathName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for pathName
+   * @return A modified copy of {@code this} object
+   */
+  public final NeededCoverageSpec withPathName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.pathName, value)) return this;
+    return new NeededCoverageSpec(this, this.neededCoverageRatio, this.buildTarget, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NeededCoverageSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NeededCoverageSpec
+        && equalTo((NeededCoverageSpec) another);
+  }
+
+  private boolean equalTo(NeededCoverageSpec another) {
+    return Float.floatToIntBits(neededCoverageRatio) == Float.floatToIntBits(another.neededCoverageRatio)
+        && buildTarget.equals(another.buildTarget)
+        && Objects.equals(pathName, another.pathName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code neededCoverageRatio}, {@code buildTarget}, {@code pathName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Floats.hashCode(neededCoverageRatio);
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + Objects.hashCode(pathName);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NeededCoverageSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NeededCoverageSpec")
+        .omitNullValues()
+        .add("neededCoverageRatio", neededCoverageRatio)
+        .add("buildTarget", buildTarget)
+        .add("pathName", pathName)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NeededCoverageSpec} instance.
+   * @param neededCoverageRatio The value for the {@code neededCoverageRatio} attribute
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param pathName The value for the {@code pathName} attribute
+   * @return An immutable NeededCoverageSpec instance
+   */
+  public static NeededCoverageSpec of(float neededCoverageRatio, BuildTarget buildTarget, Optional<String> pathName) {
+    return new NeededCoverageSpec(neededCoverageRatio, buildTarget, pathName);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractNeededCoverageSpec} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable NeededCoverageSpec instance
+   */
+  static NeededCoverageSpec copyOf(AbstractNeededCoverageSpec instance) {
+    if (instance instanceof NeededCoverageSpec) {
+      return (NeededCoverageSpec) instance;
+    }
+    return NeededCoverageSpec.of(instance.getNeededCoverageRatio(), instance.getBuildTarget(), instance.getPathName());
+  }
+}
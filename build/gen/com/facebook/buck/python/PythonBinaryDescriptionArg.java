@@ -0,0 +1,2058 @@
+package com.facebook.buck.python;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Flavor;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasTests;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.facebook.buck.versions.HasVersionUniverse;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PythonBinaryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "PythonBinaryDescription.AbstractPythonBinaryDescriptionArg"})
+@Immutable
+public final class PythonBinaryDescriptionArg
+    implements PythonBinaryDescription.AbstractPythonBinaryDescriptionArg {
+  private final @Nullable SourcePath main;
+  private final @Nullable String mainModule;
+  private final PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+  private final @Nullable String baseModule;
+  private final @Nullable Boolean zipSafe;
+  private final ImmutableList<String> buildArgs;
+  private final @Nullable String platform;
+  private final @Nullable Flavor cxxPlatform;
+  private final @Nullable PythonBuckConfig.PackageStyle packageStyle;
+  private final ImmutableSet<BuildTarget> preloadDeps;
+  private final ImmutableList<String> linkerFlags;
+  private final @Nullable String extension;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<BuildTarget> tests;
+  private final @Nullable String versionUniverse;
+
+  private PythonBinaryDescriptionArg(PythonBinaryDescriptionArg.Builder builder) {
+    this.main = builder.main;
+    this.mainModule = builder.mainModule;
+    this.baseModule = builder.baseModule;
+    this.zipSafe = builder.zipSafe;
+    this.buildArgs = builder.buildArgs.build();
+    this.platform = builder.platform;
+    this.cxxPlatform = builder.cxxPlatform;
+    this.packageStyle = builder.packageStyle;
+    this.preloadDeps = builder.preloadDeps.build();
+    this.linkerFlags = builder.linkerFlags.build();
+    this.extension = builder.extension;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.tests = builder.tests.build();
+    this.versionUniverse = builder.versionUniverse;
+    this.platformDeps = builder.platformDeps != null
+        ? builder.platformDeps
+        : Objects.requireNonNull(PythonBinaryDescription.AbstractPythonBinaryDescriptionArg.super.getPlatformDeps(), "platformDeps");
+  }
+
+  private PythonBinaryDescriptionArg(
+      @Nullable SourcePath main,
+      @Nullable String mainModule,
+      PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps,
+      @Nullable String baseModule,
+      @Nullable Boolean zipSafe,
+      ImmutableList<String> buildArgs,
+      @Nullable String platform,
+      @Nullable Flavor cxxPlatform,
+      @Nullable PythonBuckConfig.PackageStyle packageStyle,
+      ImmutableSet<BuildTarget> preloadDeps,
+      ImmutableList<String> linkerFlags,
+      @Nullable String extension,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<BuildTarget> tests,
+      @Nullable String versionUniverse) {
+    this.main = main;
+    this.mainModule = mainModule;
+    this.platformDeps = platformDeps;
+    this.baseModule = baseModule;
+    this.zipSafe = zipSafe;
+    this.buildArgs = buildArgs;
+    this.platform = platform;
+    this.cxxPlatform = cxxPlatform;
+    this.packageStyle = packageStyle;
+    this.preloadDeps = preloadDeps;
+    this.linkerFlags = linkerFlags;
+    this.extension = extension;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.tests = tests;
+    this.versionUniverse = versionUniverse;
+  }
+
+  /**
+   * @return The value of the {@code main} attribute
+   */
+  @Override
+  public Optional<SourcePath> getMain() {
+    return Optional.ofNullable(main);
+  }
+
+  /**
+   * @return The value of the {@code mainModule} attribute
+   */
+  @Override
+  public Optional<String> getMainModule() {
+    return Optional.ofNullable(mainModule);
+  }
+
+  /**
+   * @return The value of the {@code platformDeps} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+    return platformDeps;
+  }
+
+  /**
+   * @return The value of the {@code baseModule} attribute
+   */
+  @Override
+  public Optional<String> getBaseModule() {
+    return Optional.ofNullable(baseModule);
+  }
+
+  /**
+   * @return The value of the {@code zipSafe} attribute
+   */
+  @Override
+  public Optional<Boolean> getZipSafe() {
+    return Optional.ofNullable(zipSafe);
+  }
+
+  /**
+   * @return The value of the {@code buildArgs} attribute
+   */
+  @Override
+  public ImmutableList<String> getBuildArgs() {
+    return buildArgs;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Optional<String> getPlatform() {
+    return Optional.ofNullable(platform);
+  }
+
+  /**
+   * @return The value of the {@code cxxPlatform} attribute
+   */
+  @Override
+  public Optional<Flavor> getCxxPlatform() {
+    return Optional.ofNullable(cxxPlatform);
+  }
+
+  /**
+   * @return The value of the {@code packageStyle} attribute
+   */
+  @Override
+  public Optional<PythonBuckConfig.PackageStyle> getPackageStyle() {
+    return Optional.ofNullable(packageStyle);
+  }
+
+  /**
+   * @return The value of the {@code preloadDeps} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getPreloadDeps() {
+    return preloadDeps;
+  }
+
+  /**
+   * @return The value of the {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code extension} attribute
+   */
+  @Override
+  public Optional<String> getExtension() {
+    return Optional.ofNullable(extension);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * @return The value of the {@code versionUniverse} attribute
+   */
+  @Override
+  public Optional<String> getVersionUniverse() {
+    return Optional.ofNullable(versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getMain() main} attribute.
+   * @param value The value for main
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withMain(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "main");
+    if (this.main == newValue) return this;
+    return new PythonBinaryDescriptionArg(
+        newValue,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getMain() main} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for main
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withMain(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.main == value) return this;
+    return new PythonBinaryDescriptionArg(
+        value,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getMainModule() mainModule} attribute.
+   * @param value The value for mainModule
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withMainModule(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "mainModule");
+    if (Objects.equals(this.mainModule, newValue)) return this;
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        newValue,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getMainModule() mainModule} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for mainModule
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withMainModule(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.mainModule, value)) return this;
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        value,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPlatformDeps() platformDeps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformDeps
+   * @return A modified copy of the {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> value) {
+    if (this.platformDeps == value) return this;
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> newValue = Objects.requireNonNull(value, "platformDeps");
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        newValue,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getBaseModule() baseModule} attribute.
+   * @param value The value for baseModule
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withBaseModule(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "baseModule");
+    if (Objects.equals(this.baseModule, newValue)) return this;
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        newValue,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getBaseModule() baseModule} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for baseModule
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withBaseModule(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.baseModule, value)) return this;
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        value,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getZipSafe() zipSafe} attribute.
+   * @param value The value for zipSafe
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withZipSafe(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.zipSafe, newValue)) return this;
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        newValue,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getZipSafe() zipSafe} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for zipSafe
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withZipSafe(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.zipSafe, value)) return this;
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        value,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getBuildArgs() buildArgs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withBuildArgs(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        newValue,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getBuildArgs() buildArgs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of buildArgs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withBuildArgs(Iterable<String> elements) {
+    if (this.buildArgs == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        newValue,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPlatform() platform} attribute.
+   * @param value The value for platform
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withPlatform(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "platform");
+    if (Objects.equals(this.platform, newValue)) return this;
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        newValue,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPlatform() platform} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for platform
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withPlatform(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.platform, value)) return this;
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        value,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getCxxPlatform() cxxPlatform} attribute.
+   * @param value The value for cxxPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withCxxPlatform(Flavor value) {
+    @Nullable Flavor newValue = Objects.requireNonNull(value, "cxxPlatform");
+    if (this.cxxPlatform == newValue) return this;
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        newValue,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getCxxPlatform() cxxPlatform} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cxxPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withCxxPlatform(Optional<? extends Flavor> optional) {
+    @Nullable Flavor value = optional.orElse(null);
+    if (this.cxxPlatform == value) return this;
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        value,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPackageStyle() packageStyle} attribute.
+   * @param value The value for packageStyle
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withPackageStyle(PythonBuckConfig.PackageStyle value) {
+    @Nullable PythonBuckConfig.PackageStyle newValue = Objects.requireNonNull(value, "packageStyle");
+    if (this.packageStyle == newValue) return this;
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        newValue,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPackageStyle() packageStyle} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for packageStyle
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withPackageStyle(Optional<? extends PythonBuckConfig.PackageStyle> optional) {
+    @Nullable PythonBuckConfig.PackageStyle value = optional.orElse(null);
+    if (Objects.equals(this.packageStyle, value)) return this;
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        value,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPreloadDeps() preloadDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withPreloadDeps(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        newValue,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPreloadDeps() preloadDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of preloadDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withPreloadDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.preloadDeps == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        newValue,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLinkerFlags() linkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withLinkerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        newValue,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLinkerFlags() linkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of linkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withLinkerFlags(Iterable<String> elements) {
+    if (this.linkerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        newValue,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getExtension() extension} attribute.
+   * @param value The value for extension
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withExtension(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "extension");
+    if (Objects.equals(this.extension, newValue)) return this;
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getExtension() extension} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for extension
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withExtension(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.extension, value)) return this;
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.tests,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getTests() tests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getTests() tests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of tests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withTests(Iterable<? extends BuildTarget> elements) {
+    if (this.tests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue,
+        this.versionUniverse);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getVersionUniverse() versionUniverse} attribute.
+   * @param value The value for versionUniverse
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withVersionUniverse(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "versionUniverse");
+    if (Objects.equals(this.versionUniverse, newValue)) return this;
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getVersionUniverse() versionUniverse} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for versionUniverse
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonBinaryDescriptionArg withVersionUniverse(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.versionUniverse, value)) return this;
+    return new PythonBinaryDescriptionArg(
+        this.main,
+        this.mainModule,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.buildArgs,
+        this.platform,
+        this.cxxPlatform,
+        this.packageStyle,
+        this.preloadDeps,
+        this.linkerFlags,
+        this.extension,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PythonBinaryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PythonBinaryDescriptionArg
+        && equalTo((PythonBinaryDescriptionArg) another);
+  }
+
+  private boolean equalTo(PythonBinaryDescriptionArg another) {
+    return Objects.equals(main, another.main)
+        && Objects.equals(mainModule, another.mainModule)
+        && platformDeps.equals(another.platformDeps)
+        && Objects.equals(baseModule, another.baseModule)
+        && Objects.equals(zipSafe, another.zipSafe)
+        && buildArgs.equals(another.buildArgs)
+        && Objects.equals(platform, another.platform)
+        && Objects.equals(cxxPlatform, another.cxxPlatform)
+        && Objects.equals(packageStyle, another.packageStyle)
+        && preloadDeps.equals(another.preloadDeps)
+        && linkerFlags.equals(another.linkerFlags)
+        && Objects.equals(extension, another.extension)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && tests.equals(another.tests)
+        && Objects.equals(versionUniverse, another.versionUniverse);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code main}, {@code mainModule}, {@code platformDeps}, {@code baseModule}, {@code zipSafe}, {@code buildArgs}, {@code platform}, {@code cxxPlatform}, {@code packageStyle}, {@code preloadDeps}, {@code linkerFlags}, {@code extension}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code tests}, {@code versionUniverse}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(main);
+    h += (h << 5) + Objects.hashCode(mainModule);
+    h += (h << 5) + platformDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(baseModule);
+    h += (h << 5) + Objects.hashCode(zipSafe);
+    h += (h << 5) + buildArgs.hashCode();
+    h += (h << 5) + Objects.hashCode(platform);
+    h += (h << 5) + Objects.hashCode(cxxPlatform);
+    h += (h << 5) + Objects.hashCode(packageStyle);
+    h += (h << 5) + preloadDeps.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(extension);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + tests.hashCode();
+    h += (h << 5) + Objects.hashCode(versionUniverse);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PythonBinaryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PythonBinaryDescriptionArg")
+        .omitNullValues()
+        .add("main", main)
+        .add("mainModule", mainModule)
+        .add("platformDeps", platformDeps)
+        .add("baseModule", baseModule)
+        .add("zipSafe", zipSafe)
+        .add("buildArgs", buildArgs)
+        .add("platform", platform)
+        .add("cxxPlatform", cxxPlatform)
+        .add("packageStyle", packageStyle)
+        .add("preloadDeps", preloadDeps)
+        .add("linkerFlags", linkerFlags)
+        .add("extension", extension)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("tests", tests)
+        .add("versionUniverse", versionUniverse)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PythonBinaryDescriptionArg instance
+   */
+  static PythonBinaryDescriptionArg copyOf(PythonBinaryDescription.AbstractPythonBinaryDescriptionArg instance) {
+    if (instance instanceof PythonBinaryDescriptionArg) {
+      return (PythonBinaryDescriptionArg) instance;
+    }
+    return PythonBinaryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PythonBinaryDescriptionArg PythonBinaryDescriptionArg}.
+   * @return A new PythonBinaryDescriptionArg builder
+   */
+  public static PythonBinaryDescriptionArg.Builder builder() {
+    return new PythonBinaryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PythonBinaryDescriptionArg PythonBinaryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable SourcePath main;
+    private @Nullable String mainModule;
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private @Nullable String baseModule;
+    private @Nullable Boolean zipSafe;
+    private ImmutableList.Builder<String> buildArgs = ImmutableList.builder();
+    private @Nullable String platform;
+    private @Nullable Flavor cxxPlatform;
+    private @Nullable PythonBuckConfig.PackageStyle packageStyle;
+    private ImmutableSet.Builder<BuildTarget> preloadDeps = ImmutableSet.builder();
+    private ImmutableList.Builder<String> linkerFlags = ImmutableList.builder();
+    private @Nullable String extension;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+    private @Nullable String versionUniverse;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.versions.HasVersionUniverse} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasVersionUniverse instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PythonBinaryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PythonBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPythonBinaryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(PythonBinaryDescription.AbstractPythonBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasVersionUniverse) {
+        HasVersionUniverse instance = (HasVersionUniverse) object;
+        Optional<String> versionUniverseOptional = instance.getVersionUniverse();
+        if (versionUniverseOptional.isPresent()) {
+          setVersionUniverse(versionUniverseOptional);
+        }
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof PythonBinaryDescription.AbstractPythonBinaryDescriptionArg) {
+        PythonBinaryDescription.AbstractPythonBinaryDescriptionArg instance = (PythonBinaryDescription.AbstractPythonBinaryDescriptionArg) object;
+        addAllPreloadDeps(instance.getPreloadDeps());
+        Optional<String> extensionOptional = instance.getExtension();
+        if (extensionOptional.isPresent()) {
+          setExtension(extensionOptional);
+        }
+        Optional<String> baseModuleOptional = instance.getBaseModule();
+        if (baseModuleOptional.isPresent()) {
+          setBaseModule(baseModuleOptional);
+        }
+        Optional<Boolean> zipSafeOptional = instance.getZipSafe();
+        if (zipSafeOptional.isPresent()) {
+          setZipSafe(zipSafeOptional);
+        }
+        Optional<String> mainModuleOptional = instance.getMainModule();
+        if (mainModuleOptional.isPresent()) {
+          setMainModule(mainModuleOptional);
+        }
+        setPlatformDeps(instance.getPlatformDeps());
+        Optional<SourcePath> mainOptional = instance.getMain();
+        if (mainOptional.isPresent()) {
+          setMain(mainOptional);
+        }
+        addAllLinkerFlags(instance.getLinkerFlags());
+        addAllBuildArgs(instance.getBuildArgs());
+        Optional<PythonBuckConfig.PackageStyle> packageStyleOptional = instance.getPackageStyle();
+        if (packageStyleOptional.isPresent()) {
+          setPackageStyle(packageStyleOptional);
+        }
+        Optional<String> platformOptional = instance.getPlatform();
+        if (platformOptional.isPresent()) {
+          setPlatform(platformOptional);
+        }
+        Optional<Flavor> cxxPlatformOptional = instance.getCxxPlatform();
+        if (cxxPlatformOptional.isPresent()) {
+          setCxxPlatform(cxxPlatformOptional);
+        }
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getMain() main} to main.
+     * @param main The value for main
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMain(SourcePath main) {
+      this.main = Objects.requireNonNull(main, "main");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getMain() main} to main.
+     * @param main The value for main
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMain(Optional<? extends SourcePath> main) {
+      this.main = main.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getMainModule() mainModule} to mainModule.
+     * @param mainModule The value for mainModule
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMainModule(String mainModule) {
+      this.mainModule = Objects.requireNonNull(mainModule, "mainModule");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getMainModule() mainModule} to mainModule.
+     * @param mainModule The value for mainModule
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMainModule(Optional<String> mainModule) {
+      this.mainModule = mainModule.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPlatformDeps() platformDeps} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPlatformDeps() platformDeps}.</em>
+     * @param platformDeps The value for platformDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = Objects.requireNonNull(platformDeps, "platformDeps");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getBaseModule() baseModule} to baseModule.
+     * @param baseModule The value for baseModule
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBaseModule(String baseModule) {
+      this.baseModule = Objects.requireNonNull(baseModule, "baseModule");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getBaseModule() baseModule} to baseModule.
+     * @param baseModule The value for baseModule
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBaseModule(Optional<String> baseModule) {
+      this.baseModule = baseModule.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getZipSafe() zipSafe} to zipSafe.
+     * @param zipSafe The value for zipSafe
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setZipSafe(boolean zipSafe) {
+      this.zipSafe = zipSafe;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getZipSafe() zipSafe} to zipSafe.
+     * @param zipSafe The value for zipSafe
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setZipSafe(Optional<Boolean> zipSafe) {
+      this.zipSafe = zipSafe.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getBuildArgs() buildArgs} list.
+     * @param element A buildArgs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBuildArgs(String element) {
+      this.buildArgs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getBuildArgs() buildArgs} list.
+     * @param elements An array of buildArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBuildArgs(String... elements) {
+      this.buildArgs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getBuildArgs() buildArgs} list.
+     * @param elements An iterable of buildArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildArgs(Iterable<String> elements) {
+      this.buildArgs = ImmutableList.builder();
+      return addAllBuildArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getBuildArgs() buildArgs} list.
+     * @param elements An iterable of buildArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllBuildArgs(Iterable<String> elements) {
+      this.buildArgs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPlatform() platform} to platform.
+     * @param platform The value for platform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPlatform(String platform) {
+      this.platform = Objects.requireNonNull(platform, "platform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPlatform() platform} to platform.
+     * @param platform The value for platform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatform(Optional<String> platform) {
+      this.platform = platform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getCxxPlatform() cxxPlatform} to cxxPlatform.
+     * @param cxxPlatform The value for cxxPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxPlatform(Flavor cxxPlatform) {
+      this.cxxPlatform = Objects.requireNonNull(cxxPlatform, "cxxPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getCxxPlatform() cxxPlatform} to cxxPlatform.
+     * @param cxxPlatform The value for cxxPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxPlatform(Optional<? extends Flavor> cxxPlatform) {
+      this.cxxPlatform = cxxPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPackageStyle() packageStyle} to packageStyle.
+     * @param packageStyle The value for packageStyle
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackageStyle(PythonBuckConfig.PackageStyle packageStyle) {
+      this.packageStyle = Objects.requireNonNull(packageStyle, "packageStyle");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPackageStyle() packageStyle} to packageStyle.
+     * @param packageStyle The value for packageStyle
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackageStyle(Optional<? extends PythonBuckConfig.PackageStyle> packageStyle) {
+      this.packageStyle = packageStyle.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPreloadDeps() preloadDeps} set.
+     * @param element A preloadDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPreloadDeps(BuildTarget element) {
+      this.preloadDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPreloadDeps() preloadDeps} set.
+     * @param elements An array of preloadDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPreloadDeps(BuildTarget... elements) {
+      this.preloadDeps.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPreloadDeps() preloadDeps} set.
+     * @param elements An iterable of preloadDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPreloadDeps(Iterable<? extends BuildTarget> elements) {
+      this.preloadDeps = ImmutableSet.builder();
+      return addAllPreloadDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPreloadDeps() preloadDeps} set.
+     * @param elements An iterable of preloadDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPreloadDeps(Iterable<? extends BuildTarget> elements) {
+      this.preloadDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getExtension() extension} to extension.
+     * @param extension The value for extension
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExtension(String extension) {
+      this.extension = Objects.requireNonNull(extension, "extension");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getExtension() extension} to extension.
+     * @param extension The value for extension
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtension(Optional<String> extension) {
+      this.extension = extension.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getVersionUniverse() versionUniverse} to versionUniverse.
+     * @param versionUniverse The value for versionUniverse
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionUniverse(String versionUniverse) {
+      this.versionUniverse = Objects.requireNonNull(versionUniverse, "versionUniverse");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getVersionUniverse() versionUniverse} to versionUniverse.
+     * @param versionUniverse The value for versionUniverse
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionUniverse(Optional<String> versionUniverse) {
+      this.versionUniverse = versionUniverse.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PythonBinaryDescriptionArg PythonBinaryDescriptionArg}.
+     * @return An immutable instance of PythonBinaryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PythonBinaryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PythonBinaryDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build PythonBinaryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
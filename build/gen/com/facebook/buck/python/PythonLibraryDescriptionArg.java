@@ -0,0 +1,1513 @@
+package com.facebook.buck.python;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasTests;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.facebook.buck.rules.coercer.SourceList;
+import com.facebook.buck.rules.coercer.VersionMatchedCollection;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PythonLibraryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "PythonLibraryDescription.AbstractPythonLibraryDescriptionArg"})
+@Immutable
+public final class PythonLibraryDescriptionArg
+    implements PythonLibraryDescription.AbstractPythonLibraryDescriptionArg {
+  private final SourceList srcs;
+  private final @Nullable VersionMatchedCollection<SourceList> versionedSrcs;
+  private final PatternMatchedCollection<SourceList> platformSrcs;
+  private final SourceList resources;
+  private final @Nullable VersionMatchedCollection<SourceList> versionedResources;
+  private final PatternMatchedCollection<SourceList> platformResources;
+  private final PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+  private final @Nullable String baseModule;
+  private final @Nullable Boolean zipSafe;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<BuildTarget> tests;
+
+  private PythonLibraryDescriptionArg(PythonLibraryDescriptionArg.Builder builder) {
+    this.versionedSrcs = builder.versionedSrcs;
+    this.versionedResources = builder.versionedResources;
+    this.baseModule = builder.baseModule;
+    this.zipSafe = builder.zipSafe;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.tests = builder.tests.build();
+    if (builder.srcs != null) {
+      initShim.setSrcs(builder.srcs);
+    }
+    if (builder.platformSrcs != null) {
+      initShim.setPlatformSrcs(builder.platformSrcs);
+    }
+    if (builder.resources != null) {
+      initShim.setResources(builder.resources);
+    }
+    if (builder.platformResources != null) {
+      initShim.setPlatformResources(builder.platformResources);
+    }
+    if (builder.platformDeps != null) {
+      initShim.setPlatformDeps(builder.platformDeps);
+    }
+    this.srcs = initShim.getSrcs();
+    this.platformSrcs = initShim.getPlatformSrcs();
+    this.resources = initShim.getResources();
+    this.platformResources = initShim.getPlatformResources();
+    this.platformDeps = initShim.getPlatformDeps();
+    this.initShim = null;
+  }
+
+  private PythonLibraryDescriptionArg(
+      SourceList srcs,
+      @Nullable VersionMatchedCollection<SourceList> versionedSrcs,
+      PatternMatchedCollection<SourceList> platformSrcs,
+      SourceList resources,
+      @Nullable VersionMatchedCollection<SourceList> versionedResources,
+      PatternMatchedCollection<SourceList> platformResources,
+      PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps,
+      @Nullable String baseModule,
+      @Nullable Boolean zipSafe,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<BuildTarget> tests) {
+    this.srcs = srcs;
+    this.versionedSrcs = versionedSrcs;
+    this.platformSrcs = platformSrcs;
+    this.resources = resources;
+    this.versionedResources = versionedResources;
+    this.platformResources = platformResources;
+    this.platformDeps = platformDeps;
+    this.baseModule = baseModule;
+    this.zipSafe = zipSafe;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.tests = tests;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private SourceList srcs;
+    private int srcsBuildStage;
+
+    SourceList getSrcs() {
+      if (srcsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (srcsBuildStage == STAGE_UNINITIALIZED) {
+        srcsBuildStage = STAGE_INITIALIZING;
+        this.srcs = Objects.requireNonNull(getSrcsInitialize(), "srcs");
+        srcsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.srcs;
+    }
+
+    void setSrcs(SourceList srcs) {
+      this.srcs = srcs;
+      srcsBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<SourceList> platformSrcs;
+    private int platformSrcsBuildStage;
+
+    PatternMatchedCollection<SourceList> getPlatformSrcs() {
+      if (platformSrcsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformSrcsBuildStage == STAGE_UNINITIALIZED) {
+        platformSrcsBuildStage = STAGE_INITIALIZING;
+        this.platformSrcs = Objects.requireNonNull(getPlatformSrcsInitialize(), "platformSrcs");
+        platformSrcsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformSrcs;
+    }
+
+    void setPlatformSrcs(PatternMatchedCollection<SourceList> platformSrcs) {
+      this.platformSrcs = platformSrcs;
+      platformSrcsBuildStage = STAGE_INITIALIZED;
+    }
+    private SourceList resources;
+    private int resourcesBuildStage;
+
+    SourceList getResources() {
+      if (resourcesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (resourcesBuildStage == STAGE_UNINITIALIZED) {
+        resourcesBuildStage = STAGE_INITIALIZING;
+        this.resources = Objects.requireNonNull(getResourcesInitialize(), "resources");
+        resourcesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.resources;
+    }
+
+    void setResources(SourceList resources) {
+      this.resources = resources;
+      resourcesBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<SourceList> platformResources;
+    private int platformResourcesBuildStage;
+
+    PatternMatchedCollection<SourceList> getPlatformResources() {
+      if (platformResourcesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformResourcesBuildStage == STAGE_UNINITIALIZED) {
+        platformResourcesBuildStage = STAGE_INITIALIZING;
+        this.platformResources = Objects.requireNonNull(getPlatformResourcesInitialize(), "platformResources");
+        platformResourcesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformResources;
+    }
+
+    void setPlatformResources(PatternMatchedCollection<SourceList> platformResources) {
+      this.platformResources = platformResources;
+      platformResourcesBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private int platformDepsBuildStage;
+
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+      if (platformDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformDepsBuildStage == STAGE_UNINITIALIZED) {
+        platformDepsBuildStage = STAGE_INITIALIZING;
+        this.platformDeps = Objects.requireNonNull(getPlatformDepsInitialize(), "platformDeps");
+        platformDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformDeps;
+    }
+
+    void setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = platformDeps;
+      platformDepsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (srcsBuildStage == STAGE_INITIALIZING) attributes.add("srcs");
+      if (platformSrcsBuildStage == STAGE_INITIALIZING) attributes.add("platformSrcs");
+      if (resourcesBuildStage == STAGE_INITIALIZING) attributes.add("resources");
+      if (platformResourcesBuildStage == STAGE_INITIALIZING) attributes.add("platformResources");
+      if (platformDepsBuildStage == STAGE_INITIALIZING) attributes.add("platformDeps");
+      return "Cannot build PythonLibraryDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private SourceList getSrcsInitialize() {
+    return PythonLibraryDescription.AbstractPythonLibraryDescriptionArg.super.getSrcs();
+  }
+
+  private PatternMatchedCollection<SourceList> getPlatformSrcsInitialize() {
+    return PythonLibraryDescription.AbstractPythonLibraryDescriptionArg.super.getPlatformSrcs();
+  }
+
+  private SourceList getResourcesInitialize() {
+    return PythonLibraryDescription.AbstractPythonLibraryDescriptionArg.super.getResources();
+  }
+
+  private PatternMatchedCollection<SourceList> getPlatformResourcesInitialize() {
+    return PythonLibraryDescription.AbstractPythonLibraryDescriptionArg.super.getPlatformResources();
+  }
+
+  private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDepsInitialize() {
+    return PythonLibraryDescription.AbstractPythonLibraryDescriptionArg.super.getPlatformDeps();
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public SourceList getSrcs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSrcs()
+        : this.srcs;
+  }
+
+  /**
+   * @return The value of the {@code versionedSrcs} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<SourceList>> getVersionedSrcs() {
+    return Optional.ofNullable(versionedSrcs);
+  }
+
+  /**
+   * @return The value of the {@code platformSrcs} attribute
+   */
+  @Override
+  public PatternMatchedCollection<SourceList> getPlatformSrcs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformSrcs()
+        : this.platformSrcs;
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public SourceList getResources() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getResources()
+        : this.resources;
+  }
+
+  /**
+   * @return The value of the {@code versionedResources} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<SourceList>> getVersionedResources() {
+    return Optional.ofNullable(versionedResources);
+  }
+
+  /**
+   * @return The value of the {@code platformResources} attribute
+   */
+  @Override
+  public PatternMatchedCollection<SourceList> getPlatformResources() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformResources()
+        : this.platformResources;
+  }
+
+  /**
+   * @return The value of the {@code platformDeps} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformDeps()
+        : this.platformDeps;
+  }
+
+  /**
+   * @return The value of the {@code baseModule} attribute
+   */
+  @Override
+  public Optional<String> getBaseModule() {
+    return Optional.ofNullable(baseModule);
+  }
+
+  /**
+   * @return The value of the {@code zipSafe} attribute
+   */
+  @Override
+  public Optional<Boolean> getZipSafe() {
+    return Optional.ofNullable(zipSafe);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getSrcs() srcs} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for srcs
+   * @return A modified copy of the {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withSrcs(SourceList value) {
+    if (this.srcs == value) return this;
+    SourceList newValue = Objects.requireNonNull(value, "srcs");
+    return new PythonLibraryDescriptionArg(
+        newValue,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getVersionedSrcs() versionedSrcs} attribute.
+   * @param value The value for versionedSrcs
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withVersionedSrcs(VersionMatchedCollection<SourceList> value) {
+    @Nullable VersionMatchedCollection<SourceList> newValue = Objects.requireNonNull(value, "versionedSrcs");
+    if (this.versionedSrcs == newValue) return this;
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        newValue,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getVersionedSrcs() versionedSrcs} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for versionedSrcs
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withVersionedSrcs(Optional<? extends VersionMatchedCollection<SourceList>> optional) {
+    @Nullable VersionMatchedCollection<SourceList> value = optional.orElse(null);
+    if (this.versionedSrcs == value) return this;
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        value,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getPlatformSrcs() platformSrcs} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformSrcs
+   * @return A modified copy of the {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withPlatformSrcs(PatternMatchedCollection<SourceList> value) {
+    if (this.platformSrcs == value) return this;
+    PatternMatchedCollection<SourceList> newValue = Objects.requireNonNull(value, "platformSrcs");
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        newValue,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getResources() resources} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for resources
+   * @return A modified copy of the {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withResources(SourceList value) {
+    if (this.resources == value) return this;
+    SourceList newValue = Objects.requireNonNull(value, "resources");
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        newValue,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getVersionedResources() versionedResources} attribute.
+   * @param value The value for versionedResources
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withVersionedResources(VersionMatchedCollection<SourceList> value) {
+    @Nullable VersionMatchedCollection<SourceList> newValue = Objects.requireNonNull(value, "versionedResources");
+    if (this.versionedResources == newValue) return this;
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        newValue,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getVersionedResources() versionedResources} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for versionedResources
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withVersionedResources(Optional<? extends VersionMatchedCollection<SourceList>> optional) {
+    @Nullable VersionMatchedCollection<SourceList> value = optional.orElse(null);
+    if (this.versionedResources == value) return this;
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        value,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getPlatformResources() platformResources} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformResources
+   * @return A modified copy of the {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withPlatformResources(PatternMatchedCollection<SourceList> value) {
+    if (this.platformResources == value) return this;
+    PatternMatchedCollection<SourceList> newValue = Objects.requireNonNull(value, "platformResources");
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        newValue,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getPlatformDeps() platformDeps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformDeps
+   * @return A modified copy of the {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> value) {
+    if (this.platformDeps == value) return this;
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> newValue = Objects.requireNonNull(value, "platformDeps");
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        newValue,
+        this.baseModule,
+        this.zipSafe,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getBaseModule() baseModule} attribute.
+   * @param value The value for baseModule
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withBaseModule(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "baseModule");
+    if (Objects.equals(this.baseModule, newValue)) return this;
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        newValue,
+        this.zipSafe,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getBaseModule() baseModule} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for baseModule
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withBaseModule(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.baseModule, value)) return this;
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        value,
+        this.zipSafe,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getZipSafe() zipSafe} attribute.
+   * @param value The value for zipSafe
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withZipSafe(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.zipSafe, newValue)) return this;
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getZipSafe() zipSafe} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for zipSafe
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withZipSafe(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.zipSafe, value)) return this;
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getTests() tests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getTests() tests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of tests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonLibraryDescriptionArg withTests(Iterable<? extends BuildTarget> elements) {
+    if (this.tests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new PythonLibraryDescriptionArg(
+        this.srcs,
+        this.versionedSrcs,
+        this.platformSrcs,
+        this.resources,
+        this.versionedResources,
+        this.platformResources,
+        this.platformDeps,
+        this.baseModule,
+        this.zipSafe,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PythonLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PythonLibraryDescriptionArg
+        && equalTo((PythonLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(PythonLibraryDescriptionArg another) {
+    return srcs.equals(another.srcs)
+        && Objects.equals(versionedSrcs, another.versionedSrcs)
+        && platformSrcs.equals(another.platformSrcs)
+        && resources.equals(another.resources)
+        && Objects.equals(versionedResources, another.versionedResources)
+        && platformResources.equals(another.platformResources)
+        && platformDeps.equals(another.platformDeps)
+        && Objects.equals(baseModule, another.baseModule)
+        && Objects.equals(zipSafe, another.zipSafe)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && tests.equals(another.tests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code srcs}, {@code versionedSrcs}, {@code platformSrcs}, {@code resources}, {@code versionedResources}, {@code platformResources}, {@code platformDeps}, {@code baseModule}, {@code zipSafe}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code tests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + Objects.hashCode(versionedSrcs);
+    h += (h << 5) + platformSrcs.hashCode();
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + Objects.hashCode(versionedResources);
+    h += (h << 5) + platformResources.hashCode();
+    h += (h << 5) + platformDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(baseModule);
+    h += (h << 5) + Objects.hashCode(zipSafe);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + tests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PythonLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PythonLibraryDescriptionArg")
+        .omitNullValues()
+        .add("srcs", srcs)
+        .add("versionedSrcs", versionedSrcs)
+        .add("platformSrcs", platformSrcs)
+        .add("resources", resources)
+        .add("versionedResources", versionedResources)
+        .add("platformResources", platformResources)
+        .add("platformDeps", platformDeps)
+        .add("baseModule", baseModule)
+        .add("zipSafe", zipSafe)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("tests", tests)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PythonLibraryDescriptionArg instance
+   */
+  static PythonLibraryDescriptionArg copyOf(PythonLibraryDescription.AbstractPythonLibraryDescriptionArg instance) {
+    if (instance instanceof PythonLibraryDescriptionArg) {
+      return (PythonLibraryDescriptionArg) instance;
+    }
+    return PythonLibraryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PythonLibraryDescriptionArg PythonLibraryDescriptionArg}.
+   * @return A new PythonLibraryDescriptionArg builder
+   */
+  public static PythonLibraryDescriptionArg.Builder builder() {
+    return new PythonLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PythonLibraryDescriptionArg PythonLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable SourceList srcs;
+    private @Nullable VersionMatchedCollection<SourceList> versionedSrcs;
+    private @Nullable PatternMatchedCollection<SourceList> platformSrcs;
+    private @Nullable SourceList resources;
+    private @Nullable VersionMatchedCollection<SourceList> versionedResources;
+    private @Nullable PatternMatchedCollection<SourceList> platformResources;
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private @Nullable String baseModule;
+    private @Nullable Boolean zipSafe;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.python.PythonLibraryDescription.CoreArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PythonLibraryDescription.CoreArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PythonLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PythonLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPythonLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(PythonLibraryDescription.AbstractPythonLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof PythonLibraryDescription.CoreArg) {
+        PythonLibraryDescription.CoreArg instance = (PythonLibraryDescription.CoreArg) object;
+        Optional<VersionMatchedCollection<SourceList>> versionedResourcesOptional = instance.getVersionedResources();
+        if (versionedResourcesOptional.isPresent()) {
+          setVersionedResources(versionedResourcesOptional);
+        }
+        Optional<VersionMatchedCollection<SourceList>> versionedSrcsOptional = instance.getVersionedSrcs();
+        if (versionedSrcsOptional.isPresent()) {
+          setVersionedSrcs(versionedSrcsOptional);
+        }
+        Optional<String> baseModuleOptional = instance.getBaseModule();
+        if (baseModuleOptional.isPresent()) {
+          setBaseModule(baseModuleOptional);
+        }
+        setPlatformResources(instance.getPlatformResources());
+        setPlatformSrcs(instance.getPlatformSrcs());
+        Optional<Boolean> zipSafeOptional = instance.getZipSafe();
+        if (zipSafeOptional.isPresent()) {
+          setZipSafe(zipSafeOptional);
+        }
+        setResources(instance.getResources());
+        setPlatformDeps(instance.getPlatformDeps());
+        setSrcs(instance.getSrcs());
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getSrcs() srcs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getSrcs() srcs}.</em>
+     * @param srcs The value for srcs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(SourceList srcs) {
+      this.srcs = Objects.requireNonNull(srcs, "srcs");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getVersionedSrcs() versionedSrcs} to versionedSrcs.
+     * @param versionedSrcs The value for versionedSrcs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionedSrcs(VersionMatchedCollection<SourceList> versionedSrcs) {
+      this.versionedSrcs = Objects.requireNonNull(versionedSrcs, "versionedSrcs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getVersionedSrcs() versionedSrcs} to versionedSrcs.
+     * @param versionedSrcs The value for versionedSrcs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionedSrcs(Optional<? extends VersionMatchedCollection<SourceList>> versionedSrcs) {
+      this.versionedSrcs = versionedSrcs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getPlatformSrcs() platformSrcs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getPlatformSrcs() platformSrcs}.</em>
+     * @param platformSrcs The value for platformSrcs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformSrcs(PatternMatchedCollection<SourceList> platformSrcs) {
+      this.platformSrcs = Objects.requireNonNull(platformSrcs, "platformSrcs");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getResources() resources} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getResources() resources}.</em>
+     * @param resources The value for resources 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResources(SourceList resources) {
+      this.resources = Objects.requireNonNull(resources, "resources");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getVersionedResources() versionedResources} to versionedResources.
+     * @param versionedResources The value for versionedResources
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionedResources(VersionMatchedCollection<SourceList> versionedResources) {
+      this.versionedResources = Objects.requireNonNull(versionedResources, "versionedResources");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getVersionedResources() versionedResources} to versionedResources.
+     * @param versionedResources The value for versionedResources
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionedResources(Optional<? extends VersionMatchedCollection<SourceList>> versionedResources) {
+      this.versionedResources = versionedResources.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getPlatformResources() platformResources} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getPlatformResources() platformResources}.</em>
+     * @param platformResources The value for platformResources 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformResources(PatternMatchedCollection<SourceList> platformResources) {
+      this.platformResources = Objects.requireNonNull(platformResources, "platformResources");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getPlatformDeps() platformDeps} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getPlatformDeps() platformDeps}.</em>
+     * @param platformDeps The value for platformDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = Objects.requireNonNull(platformDeps, "platformDeps");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getBaseModule() baseModule} to baseModule.
+     * @param baseModule The value for baseModule
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBaseModule(String baseModule) {
+      this.baseModule = Objects.requireNonNull(baseModule, "baseModule");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getBaseModule() baseModule} to baseModule.
+     * @param baseModule The value for baseModule
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBaseModule(Optional<String> baseModule) {
+      this.baseModule = baseModule.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getZipSafe() zipSafe} to zipSafe.
+     * @param zipSafe The value for zipSafe
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setZipSafe(boolean zipSafe) {
+      this.zipSafe = zipSafe;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getZipSafe() zipSafe} to zipSafe.
+     * @param zipSafe The value for zipSafe
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setZipSafe(Optional<Boolean> zipSafe) {
+      this.zipSafe = zipSafe.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PythonLibraryDescriptionArg PythonLibraryDescriptionArg}.
+     * @return An immutable instance of PythonLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PythonLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PythonLibraryDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build PythonLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,342 @@
+package com.facebook.buck.python;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Flavor;
+import com.facebook.buck.model.FlavorConvertible;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractPythonPlatform}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PythonPlatform.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code PythonPlatform.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPythonPlatform"})
+@Immutable
+public final class PythonPlatform implements AbstractPythonPlatform {
+  private final Flavor flavor;
+  private final PythonEnvironment environment;
+  private final @Nullable BuildTarget cxxLibrary;
+
+  private PythonPlatform(
+      Flavor flavor,
+      PythonEnvironment environment,
+      Optional<? extends BuildTarget> cxxLibrary) {
+    this.flavor = Objects.requireNonNull(flavor, "flavor");
+    this.environment = Objects.requireNonNull(environment, "environment");
+    this.cxxLibrary = cxxLibrary.orElse(null);
+  }
+
+  private PythonPlatform(
+      PythonPlatform original,
+      Flavor flavor,
+      PythonEnvironment environment,
+      @Nullable BuildTarget cxxLibrary) {
+    this.flavor = flavor;
+    this.environment = environment;
+    this.cxxLibrary = cxxLibrary;
+  }
+
+  /**
+   *@return the {@link Flavor} associated with this python platform. 
+   */
+  @Override
+  public Flavor getFlavor() {
+    return flavor;
+  }
+
+  /**
+   *@return the {@link PythonEnvironment} for this python platform. 
+   */
+  @Override
+  public PythonEnvironment getEnvironment() {
+    return environment;
+  }
+
+  /**
+   *@return the {@link BuildTarget} wrapping the C/C++ library used by C/C++ extensions. 
+   */
+  @Override
+  public Optional<BuildTarget> getCxxLibrary() {
+    return Optional.ofNullable(cxxLibrary);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPythonPlatform#getFlavor() flavor} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for flavor
+   * @return A modified copy of the {@code this} object
+   */
+  public final PythonPlatform withFlavor(Flavor value) {
+    if (this.flavor == value) return this;
+    Flavor newValue = Objects.requireNonNull(value, "flavor");
+    return new PythonPlatform(this, newValue, this.environment, this.cxxLibrary);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPythonPlatform#getEnvironment() environment} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for environment
+   * @return A modified copy of the {@code this} object
+   */
+  public final PythonPlatform withEnvironment(PythonEnvironment value) {
+    if (this.environment == value) return this;
+    PythonEnvironment newValue = Objects.requireNonNull(value, "environment");
+    return new PythonPlatform(this, this.flavor, newValue, this.cxxLibrary);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractPythonPlatform#getCxxLibrary() cxxLibrary} attribute.
+   * @param value The value for cxxLibrary
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonPlatform withCxxLibrary(BuildTarget value) {
+    @Nullable BuildTarget newValue = Objects.requireNonNull(value, "cxxLibrary");
+    if (this.cxxLibrary == newValue) return this;
+    return new PythonPlatform(this, this.flavor, this.environment, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractPythonPlatform#getCxxLibrary() cxxLibrary} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cxxLibrary
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonPlatform withCxxLibrary(Optional<? extends BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.cxxLibrary == value) return this;
+    return new PythonPlatform(this, this.flavor, this.environment, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PythonPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PythonPlatform
+        && equalTo((PythonPlatform) another);
+  }
+
+  private boolean equalTo(PythonPlatform another) {
+    return flavor.equals(another.flavor)
+        && environment.equals(another.environment)
+        && Objects.equals(cxxLibrary, another.cxxLibrary);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code flavor}, {@code environment}, {@code cxxLibrary}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + flavor.hashCode();
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + Objects.hashCode(cxxLibrary);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PythonPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PythonPlatform")
+        .omitNullValues()
+        .add("flavor", flavor)
+        .add("environment", environment)
+        .add("cxxLibrary", cxxLibrary)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PythonPlatform} instance.
+   * @param flavor The value for the {@code flavor} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param cxxLibrary The value for the {@code cxxLibrary} attribute
+   * @return An immutable PythonPlatform instance
+   */
+  public static PythonPlatform of(Flavor flavor, PythonEnvironment environment, Optional<? extends BuildTarget> cxxLibrary) {
+    return new PythonPlatform(flavor, environment, cxxLibrary);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractPythonPlatform} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PythonPlatform instance
+   */
+  static PythonPlatform copyOf(AbstractPythonPlatform instance) {
+    if (instance instanceof PythonPlatform) {
+      return (PythonPlatform) instance;
+    }
+    return PythonPlatform.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PythonPlatform PythonPlatform}.
+   * @return A new PythonPlatform builder
+   */
+  public static PythonPlatform.Builder builder() {
+    return new PythonPlatform.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PythonPlatform PythonPlatform}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_FLAVOR = 0x1L;
+    private static final long INIT_BIT_ENVIRONMENT = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable Flavor flavor;
+    private @Nullable PythonEnvironment environment;
+    private @Nullable BuildTarget cxxLibrary;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PythonPlatform} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PythonPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPythonPlatform} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractPythonPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.model.FlavorConvertible} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(FlavorConvertible instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof AbstractPythonPlatform) {
+        AbstractPythonPlatform instance = (AbstractPythonPlatform) object;
+        if ((bits & 0x1L) == 0) {
+          setFlavor(instance.getFlavor());
+          bits |= 0x1L;
+        }
+        Optional<BuildTarget> cxxLibraryOptional = instance.getCxxLibrary();
+        if (cxxLibraryOptional.isPresent()) {
+          setCxxLibrary(cxxLibraryOptional);
+        }
+        setEnvironment(instance.getEnvironment());
+      }
+      if (object instanceof FlavorConvertible) {
+        FlavorConvertible instance = (FlavorConvertible) object;
+        if ((bits & 0x1L) == 0) {
+          setFlavor(instance.getFlavor());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPythonPlatform#getFlavor() flavor} attribute.
+     * @param flavor The value for flavor 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFlavor(Flavor flavor) {
+      this.flavor = Objects.requireNonNull(flavor, "flavor");
+      initBits &= ~INIT_BIT_FLAVOR;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractPythonPlatform#getEnvironment() environment} attribute.
+     * @param environment The value for environment 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnvironment(PythonEnvironment environment) {
+      this.environment = Objects.requireNonNull(environment, "environment");
+      initBits &= ~INIT_BIT_ENVIRONMENT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractPythonPlatform#getCxxLibrary() cxxLibrary} to cxxLibrary.
+     * @param cxxLibrary The value for cxxLibrary
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxLibrary(BuildTarget cxxLibrary) {
+      this.cxxLibrary = Objects.requireNonNull(cxxLibrary, "cxxLibrary");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractPythonPlatform#getCxxLibrary() cxxLibrary} to cxxLibrary.
+     * @param cxxLibrary The value for cxxLibrary
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxLibrary(Optional<? extends BuildTarget> cxxLibrary) {
+      this.cxxLibrary = cxxLibrary.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PythonPlatform PythonPlatform}.
+     * @return An immutable instance of PythonPlatform
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PythonPlatform build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PythonPlatform(null, flavor, environment, cxxLibrary);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_FLAVOR) != 0) attributes.add("flavor");
+      if ((initBits & INIT_BIT_ENVIRONMENT) != 0) attributes.add("environment");
+      return "Cannot build PythonPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,225 @@
+package com.facebook.buck.rules;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractBuildRuleType}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code BuildRuleType.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code BuildRuleType.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildRuleType"})
+@Immutable
+public final class BuildRuleType extends AbstractBuildRuleType {
+  private final String name;
+  private final boolean testRule;
+
+  private BuildRuleType(String name) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.testRule = super.isTestRule();
+  }
+
+  private BuildRuleType(BuildRuleType original, String name) {
+    this.name = name;
+    this.testRule = super.isTestRule();
+  }
+
+  /**
+   *@return the name as displayed in a build file, such as "java_library" 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code testRule} attribute
+   */
+  @Override
+  public boolean isTestRule() {
+    return testRule;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildRuleType#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildRuleType withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return validate(new BuildRuleType(this, newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildRuleType} that have equal attribute values.
+   * As instances of the {@code BuildRuleType} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  private boolean equalTo(BuildRuleType another) {
+    return name.equals(another.name)
+        && testRule == another.testRule;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code testRule}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + Booleans.hashCode(testRule);
+    return h;
+  }
+
+  private static class InternProxy {
+    final BuildRuleType instance;
+
+    InternProxy(BuildRuleType instance) {
+      this.instance = instance;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object another) {
+      return another != null && instance.equalTo(((InternProxy) another).instance);
+    }
+
+    @Override
+    public int hashCode() {
+      return instance.hashCode();
+    }
+  }
+
+  private static final Interner<InternProxy> INTERNER = Interners.newStrongInterner();
+
+  /**
+   * Construct a new immutable {@code BuildRuleType} instance.
+   * @param name The value for the {@code name} attribute
+   * @return An immutable BuildRuleType instance
+   */
+  public static BuildRuleType of(String name) {
+    return validate(new BuildRuleType(name));
+  }
+
+
+  private static BuildRuleType validate(BuildRuleType instance) {
+    instance.check();
+    return INTERNER.intern(new InternProxy(instance)).instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBuildRuleType} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildRuleType instance
+   */
+  static BuildRuleType copyOf(AbstractBuildRuleType instance) {
+    if (instance instanceof BuildRuleType) {
+      return (BuildRuleType) instance;
+    }
+    return BuildRuleType.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link BuildRuleType BuildRuleType}.
+   * @return A new BuildRuleType builder
+   */
+  public static BuildRuleType.Builder builder() {
+    return new BuildRuleType.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildRuleType BuildRuleType}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String name;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildRuleType} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildRuleType instance) {
+      return from((AbstractBuildRuleType) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildRuleType} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractBuildRuleType instance) {
+      Objects.requireNonNull(instance, "instance");
+      setName(instance.getName());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractBuildRuleType#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link BuildRuleType BuildRuleType}.
+     * @return An immutable instance of BuildRuleType
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildRuleType build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return BuildRuleType.validate(new BuildRuleType(null, name));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build BuildRuleType, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package com.facebook.buck.rules;
+
+import com.facebook.buck.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractCachingBuildEngineBuckConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code CachingBuildEngineBuckConfig.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCachingBuildEngineBuckConfig"})
+@Immutable
+public final class CachingBuildEngineBuckConfig
+    extends AbstractCachingBuildEngineBuckConfig {
+  private final BuckConfig delegate;
+
+  private CachingBuildEngineBuckConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  private CachingBuildEngineBuckConfig(CachingBuildEngineBuckConfig original, BuckConfig delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCachingBuildEngineBuckConfig#getDelegate() delegate} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for delegate
+   * @return A modified copy of the {@code this} object
+   */
+  public final CachingBuildEngineBuckConfig withDelegate(BuckConfig value) {
+    if (this.delegate == value) return this;
+    BuckConfig newValue = Objects.requireNonNull(value, "delegate");
+    return new CachingBuildEngineBuckConfig(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CachingBuildEngineBuckConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CachingBuildEngineBuckConfig
+        && equalTo((CachingBuildEngineBuckConfig) another);
+  }
+
+  private boolean equalTo(CachingBuildEngineBuckConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CachingBuildEngineBuckConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CachingBuildEngineBuckConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CachingBuildEngineBuckConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable CachingBuildEngineBuckConfig instance
+   */
+  public static CachingBuildEngineBuckConfig of(BuckConfig delegate) {
+    return new CachingBuildEngineBuckConfig(delegate);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCachingBuildEngineBuckConfig} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CachingBuildEngineBuckConfig instance
+   */
+  static CachingBuildEngineBuckConfig copyOf(AbstractCachingBuildEngineBuckConfig instance) {
+    if (instance instanceof CachingBuildEngineBuckConfig) {
+      return (CachingBuildEngineBuckConfig) instance;
+    }
+    return CachingBuildEngineBuckConfig.of(instance.getDelegate());
+  }
+}
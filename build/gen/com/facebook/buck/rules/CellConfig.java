@@ -0,0 +1,101 @@
+package com.facebook.buck.rules;
+
+import com.facebook.buck.util.config.RawConfig;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Hierarcical configuration of cell/section/key/value quadruples.
+ * <p>This class only implements the simple construction/storage/retrieval of these values. Other
+ * classes like {@link Config} implements accessors that interpret the values as other types.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCellConfig"})
+@Immutable
+public final class CellConfig extends AbstractCellConfig {
+  private final ImmutableMap<RelativeCellName, RawConfig> values;
+
+  private CellConfig() {
+    this.values = ImmutableMap.of();
+  }
+
+  private CellConfig(Map<? extends RelativeCellName, ? extends RawConfig> values) {
+    this.values = ImmutableMap.copyOf(values);
+  }
+
+  /**
+   * @return The value of the {@code values} attribute
+   */
+  @Override
+  public ImmutableMap<RelativeCellName, RawConfig> getValues() {
+    return values;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CellConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CellConfig
+        && equalTo((CellConfig) another);
+  }
+
+  private boolean equalTo(CellConfig another) {
+    return values.equals(another.values);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code values}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + values.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CellConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CellConfig")
+        .omitNullValues()
+        .add("values", values)
+        .toString();
+  }
+
+  private static final CellConfig INSTANCE = validate(new CellConfig());
+
+  /**
+   * Returns the default immutable singleton value of {@code CellConfig}
+   * @return An immutable instance of CellConfig
+   */
+  public static CellConfig of() {
+    return INSTANCE;
+  }
+
+  /**
+   * Construct a new immutable {@code CellConfig} instance.
+   * @param values The value for the {@code values} attribute
+   * @return An immutable CellConfig instance
+   */
+  public static CellConfig of(Map<? extends RelativeCellName, ? extends RawConfig> values) {
+    return validate(new CellConfig(values));
+  }
+
+
+  private static CellConfig validate(CellConfig instance) {
+    return INSTANCE != null && INSTANCE.equalTo(instance) ? INSTANCE : instance;
+  }
+}
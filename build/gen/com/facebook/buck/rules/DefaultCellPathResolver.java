@@ -0,0 +1,195 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractDefaultCellPathResolver}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code DefaultCellPathResolver.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDefaultCellPathResolver"})
+@Immutable
+public final class DefaultCellPathResolver extends AbstractDefaultCellPathResolver {
+  private final Path root;
+  private final ImmutableMap<String, Path> cellPaths;
+
+  private DefaultCellPathResolver(Path root, Map<String, ? extends Path> cellPaths) {
+    this.root = Objects.requireNonNull(root, "root");
+    this.cellPaths = ImmutableMap.copyOf(cellPaths);
+  }
+
+  private DefaultCellPathResolver(
+      DefaultCellPathResolver original,
+      Path root,
+      ImmutableMap<String, Path> cellPaths) {
+    this.root = root;
+    this.cellPaths = cellPaths;
+  }
+
+  /**
+   * @return The value of the {@code root} attribute
+   */
+  @Override
+  public Path getRoot() {
+    return root;
+  }
+
+  /**
+   * @return The value of the {@code cellPaths} attribute
+   */
+  @Override
+  public ImmutableMap<String, Path> getCellPaths() {
+    return cellPaths;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDefaultCellPathResolver#getRoot() root} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for root
+   * @return A modified copy of the {@code this} object
+   */
+  public final DefaultCellPathResolver withRoot(Path value) {
+    if (this.root == value) return this;
+    Path newValue = Objects.requireNonNull(value, "root");
+    return new DefaultCellPathResolver(this, newValue, this.cellPaths);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractDefaultCellPathResolver#getCellPaths() cellPaths} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the cellPaths map
+   * @return A modified copy of {@code this} object
+   */
+  public final DefaultCellPathResolver withCellPaths(Map<String, ? extends Path> entries) {
+    if (this.cellPaths == entries) return this;
+    ImmutableMap<String, Path> newValue = ImmutableMap.copyOf(entries);
+    return new DefaultCellPathResolver(this, this.root, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DefaultCellPathResolver} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DefaultCellPathResolver
+        && equalTo((DefaultCellPathResolver) another);
+  }
+
+  private boolean equalTo(DefaultCellPathResolver another) {
+    return root.equals(another.root)
+        && cellPaths.equals(another.cellPaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code root}, {@code cellPaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + root.hashCode();
+    h += (h << 5) + cellPaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefaultCellPathResolver} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefaultCellPathResolver")
+        .omitNullValues()
+        .add("root", root)
+        .add("cellPaths", cellPaths)
+        .toString();
+  }
+
+  private volatile long lazyInitBitmap;
+
+  private static final long CANONICAL_NAMES_LAZY_INIT_BIT = 0x1L;
+
+  private ImmutableMap<Path, String> canonicalNames;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractDefaultCellPathResolver#getCanonicalNames() canonicalNames} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ImmutableMap<Path, String> getCanonicalNames() {
+    if ((lazyInitBitmap & CANONICAL_NAMES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & CANONICAL_NAMES_LAZY_INIT_BIT) == 0) {
+          this.canonicalNames = Objects.requireNonNull(super.getCanonicalNames(), "canonicalNames");
+          lazyInitBitmap |= CANONICAL_NAMES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return canonicalNames;
+  }
+
+  private static final long PATH_MAPPING_LAZY_INIT_BIT = 0x2L;
+
+  private ImmutableMap<RelativeCellName, Path> pathMapping;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractDefaultCellPathResolver#getPathMapping() pathMapping} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ImmutableMap<RelativeCellName, Path> getPathMapping() {
+    if ((lazyInitBitmap & PATH_MAPPING_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PATH_MAPPING_LAZY_INIT_BIT) == 0) {
+          this.pathMapping = Objects.requireNonNull(super.getPathMapping(), "pathMapping");
+          lazyInitBitmap |= PATH_MAPPING_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return pathMapping;
+  }
+
+  /**
+   * Construct a new immutable {@code DefaultCellPathResolver} instance.
+   * @param root The value for the {@code root} attribute
+   * @param cellPaths The value for the {@code cellPaths} attribute
+   * @return An immutable DefaultCellPathResolver instance
+   */
+  public static DefaultCellPathResolver of(Path root, Map<String, ? extends Path> cellPaths) {
+    return new DefaultCellPathResolver(root, cellPaths);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractDefaultCellPathResolver} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DefaultCellPathResolver instance
+   */
+  static DefaultCellPathResolver copyOf(AbstractDefaultCellPathResolver instance) {
+    if (instance instanceof DefaultCellPathResolver) {
+      return (DefaultCellPathResolver) instance;
+    }
+    return DefaultCellPathResolver.of(instance.getRoot(), instance.getCellPaths());
+  }
+}
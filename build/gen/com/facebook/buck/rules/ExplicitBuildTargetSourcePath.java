@@ -0,0 +1,229 @@
+package com.facebook.buck.rules;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A {@link BuildTargetSourcePath} which resolves to a specific (possibly non-default) output of the
+ * {@link BuildRule} referred to by its target.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractExplicitBuildTargetSourcePath"})
+@Immutable
+public final class ExplicitBuildTargetSourcePath
+    extends AbstractExplicitBuildTargetSourcePath {
+  private final BuildTarget target;
+  private final Path resolvedPath;
+  private final int hashCode;
+
+  private ExplicitBuildTargetSourcePath(BuildTarget target, Path resolvedPath) {
+    this.target = Objects.requireNonNull(target, "target");
+    this.resolvedPath = Objects.requireNonNull(resolvedPath, "resolvedPath");
+    this.hashCode = super.hashCode();
+  }
+
+  private ExplicitBuildTargetSourcePath(
+      ExplicitBuildTargetSourcePath original,
+      BuildTarget target,
+      Path resolvedPath) {
+    this.target = target;
+    this.resolvedPath = resolvedPath;
+    this.hashCode = super.hashCode();
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * @return The value of the {@code resolvedPath} attribute
+   */
+  @Override
+  public Path getResolvedPath() {
+    return resolvedPath;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExplicitBuildTargetSourcePath#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExplicitBuildTargetSourcePath withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "target");
+    return new ExplicitBuildTargetSourcePath(this, newValue, this.resolvedPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExplicitBuildTargetSourcePath#getResolvedPath() resolvedPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for resolvedPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExplicitBuildTargetSourcePath withResolvedPath(Path value) {
+    if (this.resolvedPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "resolvedPath");
+    return new ExplicitBuildTargetSourcePath(this, this.target, newValue);
+  }
+
+  /**
+   * Returns the precomputed-on-construction hash code from the supertype implementation of {@code super.hashCode()}.
+   * @return The hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  /**
+   * Construct a new immutable {@code ExplicitBuildTargetSourcePath} instance.
+   * @param target The value for the {@code target} attribute
+   * @param resolvedPath The value for the {@code resolvedPath} attribute
+   * @return An immutable ExplicitBuildTargetSourcePath instance
+   */
+  public static ExplicitBuildTargetSourcePath of(BuildTarget target, Path resolvedPath) {
+    return new ExplicitBuildTargetSourcePath(target, resolvedPath);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractExplicitBuildTargetSourcePath} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ExplicitBuildTargetSourcePath instance
+   */
+  public static ExplicitBuildTargetSourcePath copyOf(AbstractExplicitBuildTargetSourcePath instance) {
+    if (instance instanceof ExplicitBuildTargetSourcePath) {
+      return (ExplicitBuildTargetSourcePath) instance;
+    }
+    return ExplicitBuildTargetSourcePath.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ExplicitBuildTargetSourcePath ExplicitBuildTargetSourcePath}.
+   * @return A new ExplicitBuildTargetSourcePath builder
+   */
+  public static ExplicitBuildTargetSourcePath.Builder builder() {
+    return new ExplicitBuildTargetSourcePath.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ExplicitBuildTargetSourcePath ExplicitBuildTargetSourcePath}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TARGET = 0x1L;
+    private static final long INIT_BIT_RESOLVED_PATH = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable BuildTarget target;
+    private @Nullable Path resolvedPath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.BuildTargetSourcePath} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildTargetSourcePath instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.AbstractExplicitBuildTargetSourcePath} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AbstractExplicitBuildTargetSourcePath instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof BuildTargetSourcePath) {
+        BuildTargetSourcePath instance = (BuildTargetSourcePath) object;
+        if ((bits & 0x1L) == 0) {
+          setTarget(instance.getTarget());
+          bits |= 0x1L;
+        }
+      }
+      if (object instanceof AbstractExplicitBuildTargetSourcePath) {
+        AbstractExplicitBuildTargetSourcePath instance = (AbstractExplicitBuildTargetSourcePath) object;
+        setResolvedPath(instance.getResolvedPath());
+        if ((bits & 0x1L) == 0) {
+          setTarget(instance.getTarget());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExplicitBuildTargetSourcePath#getTarget() target} attribute.
+     * @param target The value for target 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTarget(BuildTarget target) {
+      this.target = Objects.requireNonNull(target, "target");
+      initBits &= ~INIT_BIT_TARGET;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractExplicitBuildTargetSourcePath#getResolvedPath() resolvedPath} attribute.
+     * @param resolvedPath The value for resolvedPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResolvedPath(Path resolvedPath) {
+      this.resolvedPath = Objects.requireNonNull(resolvedPath, "resolvedPath");
+      initBits &= ~INIT_BIT_RESOLVED_PATH;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link ExplicitBuildTargetSourcePath ExplicitBuildTargetSourcePath}.
+     * @return An immutable instance of ExplicitBuildTargetSourcePath
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ExplicitBuildTargetSourcePath build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ExplicitBuildTargetSourcePath(null, target, resolvedPath);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TARGET) != 0) attributes.add("target");
+      if ((initBits & INIT_BIT_RESOLVED_PATH) != 0) attributes.add("resolvedPath");
+      return "Cannot build ExplicitBuildTargetSourcePath, some of required attributes are not set " + attributes;
+    }
+  }
+}
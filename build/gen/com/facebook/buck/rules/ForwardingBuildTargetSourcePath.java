@@ -0,0 +1,227 @@
+package com.facebook.buck.rules;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *A {@link BuildTargetSourcePath} which resolves to the value of another SourcePath. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractForwardingBuildTargetSourcePath"})
+@Immutable
+public final class ForwardingBuildTargetSourcePath
+    extends AbstractForwardingBuildTargetSourcePath {
+  private final BuildTarget target;
+  private final SourcePath delegate;
+  private final int hashCode;
+
+  private ForwardingBuildTargetSourcePath(BuildTarget target, SourcePath delegate) {
+    this.target = Objects.requireNonNull(target, "target");
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+    this.hashCode = super.hashCode();
+  }
+
+  private ForwardingBuildTargetSourcePath(
+      ForwardingBuildTargetSourcePath original,
+      BuildTarget target,
+      SourcePath delegate) {
+    this.target = target;
+    this.delegate = delegate;
+    this.hashCode = super.hashCode();
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public SourcePath getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractForwardingBuildTargetSourcePath#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final ForwardingBuildTargetSourcePath withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "target");
+    return new ForwardingBuildTargetSourcePath(this, newValue, this.delegate);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractForwardingBuildTargetSourcePath#getDelegate() delegate} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for delegate
+   * @return A modified copy of the {@code this} object
+   */
+  public final ForwardingBuildTargetSourcePath withDelegate(SourcePath value) {
+    if (this.delegate == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "delegate");
+    return new ForwardingBuildTargetSourcePath(this, this.target, newValue);
+  }
+
+  /**
+   * Returns the precomputed-on-construction hash code from the supertype implementation of {@code super.hashCode()}.
+   * @return The hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  /**
+   * Construct a new immutable {@code ForwardingBuildTargetSourcePath} instance.
+   * @param target The value for the {@code target} attribute
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable ForwardingBuildTargetSourcePath instance
+   */
+  public static ForwardingBuildTargetSourcePath of(BuildTarget target, SourcePath delegate) {
+    return new ForwardingBuildTargetSourcePath(target, delegate);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractForwardingBuildTargetSourcePath} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ForwardingBuildTargetSourcePath instance
+   */
+  public static ForwardingBuildTargetSourcePath copyOf(AbstractForwardingBuildTargetSourcePath instance) {
+    if (instance instanceof ForwardingBuildTargetSourcePath) {
+      return (ForwardingBuildTargetSourcePath) instance;
+    }
+    return ForwardingBuildTargetSourcePath.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ForwardingBuildTargetSourcePath ForwardingBuildTargetSourcePath}.
+   * @return A new ForwardingBuildTargetSourcePath builder
+   */
+  public static ForwardingBuildTargetSourcePath.Builder builder() {
+    return new ForwardingBuildTargetSourcePath.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ForwardingBuildTargetSourcePath ForwardingBuildTargetSourcePath}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TARGET = 0x1L;
+    private static final long INIT_BIT_DELEGATE = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable BuildTarget target;
+    private @Nullable SourcePath delegate;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.AbstractForwardingBuildTargetSourcePath} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AbstractForwardingBuildTargetSourcePath instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.BuildTargetSourcePath} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildTargetSourcePath instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof AbstractForwardingBuildTargetSourcePath) {
+        AbstractForwardingBuildTargetSourcePath instance = (AbstractForwardingBuildTargetSourcePath) object;
+        setDelegate(instance.getDelegate());
+        if ((bits & 0x1L) == 0) {
+          setTarget(instance.getTarget());
+          bits |= 0x1L;
+        }
+      }
+      if (object instanceof BuildTargetSourcePath) {
+        BuildTargetSourcePath instance = (BuildTargetSourcePath) object;
+        if ((bits & 0x1L) == 0) {
+          setTarget(instance.getTarget());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractForwardingBuildTargetSourcePath#getTarget() target} attribute.
+     * @param target The value for target 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTarget(BuildTarget target) {
+      this.target = Objects.requireNonNull(target, "target");
+      initBits &= ~INIT_BIT_TARGET;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractForwardingBuildTargetSourcePath#getDelegate() delegate} attribute.
+     * @param delegate The value for delegate 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDelegate(SourcePath delegate) {
+      this.delegate = Objects.requireNonNull(delegate, "delegate");
+      initBits &= ~INIT_BIT_DELEGATE;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link ForwardingBuildTargetSourcePath ForwardingBuildTargetSourcePath}.
+     * @return An immutable instance of ForwardingBuildTargetSourcePath
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ForwardingBuildTargetSourcePath build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ForwardingBuildTargetSourcePath(null, target, delegate);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TARGET) != 0) attributes.add("target");
+      if ((initBits & INIT_BIT_DELEGATE) != 0) attributes.add("delegate");
+      return "Cannot build ForwardingBuildTargetSourcePath, some of required attributes are not set " + attributes;
+    }
+  }
+}
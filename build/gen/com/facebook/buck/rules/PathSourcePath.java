@@ -0,0 +1,250 @@
+package com.facebook.buck.rules;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.Supplier;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractPathSourcePath}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PathSourcePath.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code PathSourcePath.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPathSourcePath"})
+@Immutable
+public final class PathSourcePath extends AbstractPathSourcePath {
+  private final ProjectFilesystem filesystem;
+  private final String relativePathName;
+  private final Supplier<Path> relativePathSupplier;
+  private final int hashCode;
+
+  private PathSourcePath(
+      ProjectFilesystem filesystem,
+      String relativePathName,
+      Supplier<Path> relativePathSupplier) {
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.relativePathName = Objects.requireNonNull(relativePathName, "relativePathName");
+    this.relativePathSupplier = Objects.requireNonNull(relativePathSupplier, "relativePathSupplier");
+    this.hashCode = super.hashCode();
+  }
+
+  private PathSourcePath(
+      PathSourcePath original,
+      ProjectFilesystem filesystem,
+      String relativePathName,
+      Supplier<Path> relativePathSupplier) {
+    this.filesystem = filesystem;
+    this.relativePathName = relativePathName;
+    this.relativePathSupplier = relativePathSupplier;
+    this.hashCode = super.hashCode();
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code relativePathName} attribute
+   */
+  @Override
+  public String getRelativePathName() {
+    return relativePathName;
+  }
+
+  /**
+   * @return The value of the {@code relativePathSupplier} attribute
+   */
+  @Override
+  public Supplier<Path> getRelativePathSupplier() {
+    return relativePathSupplier;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPathSourcePath#getFilesystem() filesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for filesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final PathSourcePath withFilesystem(ProjectFilesystem value) {
+    if (this.filesystem == value) return this;
+    ProjectFilesystem newValue = Objects.requireNonNull(value, "filesystem");
+    return new PathSourcePath(this, newValue, this.relativePathName, this.relativePathSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPathSourcePath#getRelativePathName() relativePathName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for relativePathName
+   * @return A modified copy of the {@code this} object
+   */
+  public final PathSourcePath withRelativePathName(String value) {
+    if (this.relativePathName.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "relativePathName");
+    return new PathSourcePath(this, this.filesystem, newValue, this.relativePathSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPathSourcePath#getRelativePathSupplier() relativePathSupplier} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for relativePathSupplier
+   * @return A modified copy of the {@code this} object
+   */
+  public final PathSourcePath withRelativePathSupplier(Supplier<Path> value) {
+    if (this.relativePathSupplier == value) return this;
+    Supplier<Path> newValue = Objects.requireNonNull(value, "relativePathSupplier");
+    return new PathSourcePath(this, this.filesystem, this.relativePathName, newValue);
+  }
+
+  /**
+   * Returns the precomputed-on-construction hash code from the supertype implementation of {@code super.hashCode()}.
+   * @return The hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  /**
+   * Construct a new immutable {@code PathSourcePath} instance.
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param relativePathName The value for the {@code relativePathName} attribute
+   * @param relativePathSupplier The value for the {@code relativePathSupplier} attribute
+   * @return An immutable PathSourcePath instance
+   */
+  public static PathSourcePath of(ProjectFilesystem filesystem, String relativePathName, Supplier<Path> relativePathSupplier) {
+    return new PathSourcePath(filesystem, relativePathName, relativePathSupplier);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractPathSourcePath} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PathSourcePath instance
+   */
+  public static PathSourcePath copyOf(AbstractPathSourcePath instance) {
+    if (instance instanceof PathSourcePath) {
+      return (PathSourcePath) instance;
+    }
+    return PathSourcePath.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PathSourcePath PathSourcePath}.
+   * @return A new PathSourcePath builder
+   */
+  public static PathSourcePath.Builder builder() {
+    return new PathSourcePath.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PathSourcePath PathSourcePath}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_FILESYSTEM = 0x1L;
+    private static final long INIT_BIT_RELATIVE_PATH_NAME = 0x2L;
+    private static final long INIT_BIT_RELATIVE_PATH_SUPPLIER = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable ProjectFilesystem filesystem;
+    private @Nullable String relativePathName;
+    private @Nullable Supplier<Path> relativePathSupplier;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractPathSourcePath} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AbstractPathSourcePath instance) {
+      Objects.requireNonNull(instance, "instance");
+      setFilesystem(instance.getFilesystem());
+      setRelativePathName(instance.getRelativePathName());
+      setRelativePathSupplier(instance.getRelativePathSupplier());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPathSourcePath#getFilesystem() filesystem} attribute.
+     * @param filesystem The value for filesystem 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFilesystem(ProjectFilesystem filesystem) {
+      this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+      initBits &= ~INIT_BIT_FILESYSTEM;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractPathSourcePath#getRelativePathName() relativePathName} attribute.
+     * @param relativePathName The value for relativePathName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRelativePathName(String relativePathName) {
+      this.relativePathName = Objects.requireNonNull(relativePathName, "relativePathName");
+      initBits &= ~INIT_BIT_RELATIVE_PATH_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractPathSourcePath#getRelativePathSupplier() relativePathSupplier} attribute.
+     * @param relativePathSupplier The value for relativePathSupplier 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRelativePathSupplier(Supplier<Path> relativePathSupplier) {
+      this.relativePathSupplier = Objects.requireNonNull(relativePathSupplier, "relativePathSupplier");
+      initBits &= ~INIT_BIT_RELATIVE_PATH_SUPPLIER;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link PathSourcePath PathSourcePath}.
+     * @return An immutable instance of PathSourcePath
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PathSourcePath build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PathSourcePath(null, filesystem, relativePathName, relativePathSupplier);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_FILESYSTEM) != 0) attributes.add("filesystem");
+      if ((initBits & INIT_BIT_RELATIVE_PATH_NAME) != 0) attributes.add("relativePathName");
+      if ((initBits & INIT_BIT_RELATIVE_PATH_SUPPLIER) != 0) attributes.add("relativePathSupplier");
+      return "Cannot build PathSourcePath, some of required attributes are not set " + attributes;
+    }
+  }
+}
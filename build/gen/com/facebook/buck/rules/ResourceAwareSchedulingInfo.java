@@ -0,0 +1,245 @@
+package com.facebook.buck.rules;
+
+import com.facebook.buck.util.concurrent.ResourceAmounts;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Booleans;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractResourceAwareSchedulingInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ResourceAwareSchedulingInfo.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractResourceAwareSchedulingInfo"})
+@Immutable
+public final class ResourceAwareSchedulingInfo
+    extends AbstractResourceAwareSchedulingInfo {
+  private final boolean resourceAwareSchedulingEnabled;
+  private final ResourceAmounts defaultResourceAmounts;
+  private final ImmutableMap<String, ResourceAmounts> amountsPerRuleType;
+  private final @Nullable BuildRuleResourceEstimator measuredResourceEstimator;
+
+  private ResourceAwareSchedulingInfo(
+      boolean resourceAwareSchedulingEnabled,
+      ResourceAmounts defaultResourceAmounts,
+      Map<String, ? extends ResourceAmounts> amountsPerRuleType,
+      Optional<? extends BuildRuleResourceEstimator> measuredResourceEstimator) {
+    this.resourceAwareSchedulingEnabled = resourceAwareSchedulingEnabled;
+    this.defaultResourceAmounts = Objects.requireNonNull(defaultResourceAmounts, "defaultResourceAmounts");
+    this.amountsPerRuleType = ImmutableMap.copyOf(amountsPerRuleType);
+    this.measuredResourceEstimator = measuredResourceEstimator.orElse(null);
+  }
+
+  private ResourceAwareSchedulingInfo(
+      ResourceAwareSchedulingInfo original,
+      boolean resourceAwareSchedulingEnabled,
+      ResourceAmounts defaultResourceAmounts,
+      ImmutableMap<String, ResourceAmounts> amountsPerRuleType,
+      @Nullable BuildRuleResourceEstimator measuredResourceEstimator) {
+    this.resourceAwareSchedulingEnabled = resourceAwareSchedulingEnabled;
+    this.defaultResourceAmounts = defaultResourceAmounts;
+    this.amountsPerRuleType = amountsPerRuleType;
+    this.measuredResourceEstimator = measuredResourceEstimator;
+  }
+
+  /**
+   * @return The value of the {@code resourceAwareSchedulingEnabled} attribute
+   */
+  @Override
+  public boolean isResourceAwareSchedulingEnabled() {
+    return resourceAwareSchedulingEnabled;
+  }
+
+  /**
+   * @return The value of the {@code defaultResourceAmounts} attribute
+   */
+  @Override
+  public ResourceAmounts getDefaultResourceAmounts() {
+    return defaultResourceAmounts;
+  }
+
+  /**
+   *Map from the value of {@link BuildRule#getType()} to the required resources. 
+   */
+  @Override
+  public ImmutableMap<String, ResourceAmounts> getAmountsPerRuleType() {
+    return amountsPerRuleType;
+  }
+
+  /**
+   * Estimates amounts from what rules used in earlier builds. The amounts measured for a rule
+   * itself take precedence over {@link #getAmountsPerRuleType()}, which in turn takes precedence
+   * over the amounts measured for its type.
+   */
+  @Override
+  public Optional<BuildRuleResourceEstimator> getMeasuredResourceEstimator() {
+    return Optional.ofNullable(measuredResourceEstimator);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractResourceAwareSchedulingInfo#isResourceAwareSchedulingEnabled() resourceAwareSchedulingEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for resourceAwareSchedulingEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final ResourceAwareSchedulingInfo withResourceAwareSchedulingEnabled(boolean value) {
+    if (this.resourceAwareSchedulingEnabled == value) return this;
+    return new ResourceAwareSchedulingInfo(
+        this,
+        value,
+        this.defaultResourceAmounts,
+        this.amountsPerRuleType,
+        this.measuredResourceEstimator);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractResourceAwareSchedulingInfo#getDefaultResourceAmounts() defaultResourceAmounts} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for defaultResourceAmounts
+   * @return A modified copy of the {@code this} object
+   */
+  public final ResourceAwareSchedulingInfo withDefaultResourceAmounts(ResourceAmounts value) {
+    if (this.defaultResourceAmounts == value) return this;
+    ResourceAmounts newValue = Objects.requireNonNull(value, "defaultResourceAmounts");
+    return new ResourceAwareSchedulingInfo(
+        this,
+        this.resourceAwareSchedulingEnabled,
+        newValue,
+        this.amountsPerRuleType,
+        this.measuredResourceEstimator);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractResourceAwareSchedulingInfo#getAmountsPerRuleType() amountsPerRuleType} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the amountsPerRuleType map
+   * @return A modified copy of {@code this} object
+   */
+  public final ResourceAwareSchedulingInfo withAmountsPerRuleType(Map<String, ? extends ResourceAmounts> entries) {
+    if (this.amountsPerRuleType == entries) return this;
+    ImmutableMap<String, ResourceAmounts> newValue = ImmutableMap.copyOf(entries);
+    return new ResourceAwareSchedulingInfo(
+        this,
+        this.resourceAwareSchedulingEnabled,
+        this.defaultResourceAmounts,
+        newValue,
+        this.measuredResourceEstimator);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractResourceAwareSchedulingInfo#getMeasuredResourceEstimator() measuredResourceEstimator} attribute.
+   * @param value The value for measuredResourceEstimator
+   * @return A modified copy of {@code this} object
+   */
+  public final ResourceAwareSchedulingInfo withMeasuredResourceEstimator(BuildRuleResourceEstimator value) {
+    @Nullable BuildRuleResourceEstimator newValue = Objects.requireNonNull(value, "measuredResourceEstimator");
+    if (this.measuredResourceEstimator == newValue) return this;
+    return new ResourceAwareSchedulingInfo(
+        this,
+        this.resourceAwareSchedulingEnabled,
+        this.defaultResourceAmounts,
+        this.amountsPerRuleType,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractResourceAwareSchedulingInfo#getMeasuredResourceEstimator() measuredResourceEstimator} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for measuredResourceEstimator
+   * @return A modified copy of {@code this} object
+   */
+  public final ResourceAwareSchedulingInfo withMeasuredResourceEstimator(Optional<? extends BuildRuleResourceEstimator> optional) {
+    @Nullable BuildRuleResourceEstimator value = optional.orElse(null);
+    if (this.measuredResourceEstimator == value) return this;
+    return new ResourceAwareSchedulingInfo(
+        this,
+        this.resourceAwareSchedulingEnabled,
+        this.defaultResourceAmounts,
+        this.amountsPerRuleType,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ResourceAwareSchedulingInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ResourceAwareSchedulingInfo
+        && equalTo((ResourceAwareSchedulingInfo) another);
+  }
+
+  private boolean equalTo(ResourceAwareSchedulingInfo another) {
+    return resourceAwareSchedulingEnabled == another.resourceAwareSchedulingEnabled
+        && defaultResourceAmounts.equals(another.defaultResourceAmounts)
+        && amountsPerRuleType.equals(another.amountsPerRuleType)
+        && Objects.equals(measuredResourceEstimator, another.measuredResourceEstimator);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code resourceAwareSchedulingEnabled}, {@code defaultResourceAmounts}, {@code amountsPerRuleType}, {@code measuredResourceEstimator}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Booleans.hashCode(resourceAwareSchedulingEnabled);
+    h += (h << 5) + defaultResourceAmounts.hashCode();
+    h += (h << 5) + amountsPerRuleType.hashCode();
+    h += (h << 5) + Objects.hashCode(measuredResourceEstimator);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ResourceAwareSchedulingInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ResourceAwareSchedulingInfo")
+        .omitNullValues()
+        .add("resourceAwareSchedulingEnabled", resourceAwareSchedulingEnabled)
+        .add("defaultResourceAmounts", defaultResourceAmounts)
+        .add("amountsPerRuleType", amountsPerRuleType)
+        .add("measuredResourceEstimator", measuredResourceEstimator)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ResourceAwareSchedulingInfo} instance.
+   * @param resourceAwareSchedulingEnabled The value for the {@code resourceAwareSchedulingEnabled} attribute
+   * @param defaultResourceAmounts The value for the {@code defaultResourceAmounts} attribute
+   * @param amountsPerRuleType The value for the {@code amountsPerRuleType} attribute
+   * @param measuredResourceEstimator The value for the {@code measuredResourceEstimator} attribute
+   * @return An immutable ResourceAwareSchedulingInfo instance
+   */
+  public static ResourceAwareSchedulingInfo of(boolean resourceAwareSchedulingEnabled, ResourceAmounts defaultResourceAmounts, Map<String, ? extends ResourceAmounts> amountsPerRuleType, Optional<? extends BuildRuleResourceEstimator> measuredResourceEstimator) {
+    return new ResourceAwareSchedulingInfo(resourceAwareSchedulingEnabled, defaultResourceAmounts, amountsPerRuleType, measuredResourceEstimator);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractResourceAwareSchedulingInfo} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ResourceAwareSchedulingInfo instance
+   */
+  static ResourceAwareSchedulingInfo copyOf(AbstractResourceAwareSchedulingInfo instance) {
+    if (instance instanceof ResourceAwareSchedulingInfo) {
+      return (ResourceAwareSchedulingInfo) instance;
+    }
+    return ResourceAwareSchedulingInfo.of(instance.isResourceAwareSchedulingEnabled(), instance.getDefaultResourceAmounts(), instance.getAmountsPerRuleType(), instance.getMeasuredResourceEstimator());
+  }
+}
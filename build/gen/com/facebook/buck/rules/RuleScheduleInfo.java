@@ -0,0 +1,178 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Used to override how the build engine schedules a build rule. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractRuleScheduleInfo"})
+@Immutable
+public final class RuleScheduleInfo extends AbstractRuleScheduleInfo {
+  private final int jobsMultiplier;
+
+  private RuleScheduleInfo(RuleScheduleInfo.Builder builder) {
+    this.jobsMultiplier = builder.jobsMultiplierIsSet()
+        ? builder.jobsMultiplier
+        : super.getJobsMultiplier();
+  }
+
+  private RuleScheduleInfo(int jobsMultiplier) {
+    this.jobsMultiplier = jobsMultiplier;
+  }
+
+  /**
+   * @return the multiplier used to calculate the number of jobs to assign to a rule when running
+   *     its steps.
+   */
+  @Override
+  public int getJobsMultiplier() {
+    return jobsMultiplier;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractRuleScheduleInfo#getJobsMultiplier() jobsMultiplier} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for jobsMultiplier
+   * @return A modified copy of the {@code this} object
+   */
+  public final RuleScheduleInfo withJobsMultiplier(int value) {
+    if (this.jobsMultiplier == value) return this;
+    return new RuleScheduleInfo(value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RuleScheduleInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RuleScheduleInfo
+        && equalTo((RuleScheduleInfo) another);
+  }
+
+  private boolean equalTo(RuleScheduleInfo another) {
+    return jobsMultiplier == another.jobsMultiplier;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code jobsMultiplier}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + jobsMultiplier;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleScheduleInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleScheduleInfo")
+        .omitNullValues()
+        .add("jobsMultiplier", jobsMultiplier)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractRuleScheduleInfo} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable RuleScheduleInfo instance
+   */
+  static RuleScheduleInfo copyOf(AbstractRuleScheduleInfo instance) {
+    if (instance instanceof RuleScheduleInfo) {
+      return (RuleScheduleInfo) instance;
+    }
+    return RuleScheduleInfo.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link RuleScheduleInfo RuleScheduleInfo}.
+   * @return A new RuleScheduleInfo builder
+   */
+  public static RuleScheduleInfo.Builder builder() {
+    return new RuleScheduleInfo.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link RuleScheduleInfo RuleScheduleInfo}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long OPT_BIT_JOBS_MULTIPLIER = 0x1L;
+    private long optBits;
+
+    private int jobsMultiplier;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RuleScheduleInfo} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(RuleScheduleInfo instance) {
+      return from((AbstractRuleScheduleInfo) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractRuleScheduleInfo} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractRuleScheduleInfo instance) {
+      Objects.requireNonNull(instance, "instance");
+      setJobsMultiplier(instance.getJobsMultiplier());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractRuleScheduleInfo#getJobsMultiplier() jobsMultiplier} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractRuleScheduleInfo#getJobsMultiplier() jobsMultiplier}.</em>
+     * @param jobsMultiplier The value for jobsMultiplier 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJobsMultiplier(int jobsMultiplier) {
+      this.jobsMultiplier = jobsMultiplier;
+      optBits |= OPT_BIT_JOBS_MULTIPLIER;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link RuleScheduleInfo RuleScheduleInfo}.
+     * @return An immutable instance of RuleScheduleInfo
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RuleScheduleInfo build() {
+      return new RuleScheduleInfo(this);
+    }
+
+    private boolean jobsMultiplierIsSet() {
+      return (optBits & OPT_BIT_JOBS_MULTIPLIER) != 0;
+    }
+  }
+}
@@ -0,0 +1,297 @@
+package com.facebook.buck.rules;
+
+import com.facebook.buck.apple.toolchain.AppleSdk;
+import com.facebook.buck.apple.toolchain.AppleSdkPaths;
+import com.facebook.buck.apple.toolchain.AppleToolchain;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractSdkEnvironment}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code SdkEnvironment.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSdkEnvironment"})
+@Immutable
+public final class SdkEnvironment extends AbstractSdkEnvironment {
+  private final @Nullable ImmutableMap<AppleSdk, AppleSdkPaths> appleSdkPaths;
+  private final @Nullable ImmutableMap<String, AppleToolchain> appleToolchains;
+  private final @Nullable Path androidSdkPath;
+  private final @Nullable Path androidNdkPath;
+  private final @Nullable String ndkVersion;
+
+  private SdkEnvironment(
+      Optional<? extends ImmutableMap<AppleSdk, AppleSdkPaths>> appleSdkPaths,
+      Optional<? extends ImmutableMap<String, AppleToolchain>> appleToolchains,
+      Optional<? extends Path> androidSdkPath,
+      Optional<? extends Path> androidNdkPath,
+      Optional<String> ndkVersion) {
+    this.appleSdkPaths = appleSdkPaths.orElse(null);
+    this.appleToolchains = appleToolchains.orElse(null);
+    this.androidSdkPath = androidSdkPath.orElse(null);
+    this.androidNdkPath = androidNdkPath.orElse(null);
+    this.ndkVersion = ndkVersion.orElse(null);
+  }
+
+  private SdkEnvironment(
+      SdkEnvironment original,
+      @Nullable ImmutableMap<AppleSdk, AppleSdkPaths> appleSdkPaths,
+      @Nullable ImmutableMap<String, AppleToolchain> appleToolchains,
+      @Nullable Path androidSdkPath,
+      @Nullable Path androidNdkPath,
+      @Nullable String ndkVersion) {
+    this.appleSdkPaths = appleSdkPaths;
+    this.appleToolchains = appleToolchains;
+    this.androidSdkPath = androidSdkPath;
+    this.androidNdkPath = androidNdkPath;
+    this.ndkVersion = ndkVersion;
+  }
+
+  /**
+   * @return The value of the {@code appleSdkPaths} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<AppleSdk, AppleSdkPaths>> getAppleSdkPaths() {
+    return Optional.ofNullable(appleSdkPaths);
+  }
+
+  /**
+   * @return The value of the {@code appleToolchains} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<String, AppleToolchain>> getAppleToolchains() {
+    return Optional.ofNullable(appleToolchains);
+  }
+
+  /**
+   * @return The value of the {@code androidSdkPath} attribute
+   */
+  @Override
+  public Optional<Path> getAndroidSdkPath() {
+    return Optional.ofNullable(androidSdkPath);
+  }
+
+  /**
+   * @return The value of the {@code androidNdkPath} attribute
+   */
+  @Override
+  public Optional<Path> getAndroidNdkPath() {
+    return Optional.ofNullable(androidNdkPath);
+  }
+
+  /**
+   * @return The value of the {@code ndkVersion} attribute
+   */
+  @Override
+  public Optional<String> getNdkVersion() {
+    return Optional.ofNullable(ndkVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractSdkEnvironment#getAppleSdkPaths() appleSdkPaths} attribute.
+   * @param value The value for appleSdkPaths
+   * @return A modified copy of {@code this} object
+   */
+  public final SdkEnvironment withAppleSdkPaths(ImmutableMap<AppleSdk, AppleSdkPaths> value) {
+    @Nullable ImmutableMap<AppleSdk, AppleSdkPaths> newValue = Objects.requireNonNull(value, "appleSdkPaths");
+    if (this.appleSdkPaths == newValue) return this;
+    return new SdkEnvironment(this, newValue, this.appleToolchains, this.androidSdkPath, this.androidNdkPath, this.ndkVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractSdkEnvironment#getAppleSdkPaths() appleSdkPaths} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for appleSdkPaths
+   * @return A modified copy of {@code this} object
+   */
+  public final SdkEnvironment withAppleSdkPaths(Optional<? extends ImmutableMap<AppleSdk, AppleSdkPaths>> optional) {
+    @Nullable ImmutableMap<AppleSdk, AppleSdkPaths> value = optional.orElse(null);
+    if (this.appleSdkPaths == value) return this;
+    return new SdkEnvironment(this, value, this.appleToolchains, this.androidSdkPath, this.androidNdkPath, this.ndkVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractSdkEnvironment#getAppleToolchains() appleToolchains} attribute.
+   * @param value The value for appleToolchains
+   * @return A modified copy of {@code this} object
+   */
+  public final SdkEnvironment withAppleToolchains(ImmutableMap<String, AppleToolchain> value) {
+    @Nullable ImmutableMap<String, AppleToolchain> newValue = Objects.requireNonNull(value, "appleToolchains");
+    if (this.appleToolchains == newValue) return this;
+    return new SdkEnvironment(this, this.appleSdkPaths, newValue, this.androidSdkPath, this.androidNdkPath, this.ndkVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractSdkEnvironment#getAppleToolchains() appleToolchains} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for appleToolchains
+   * @return A modified copy of {@code this} object
+   */
+  public final SdkEnvironment withAppleToolchains(Optional<? extends ImmutableMap<String, AppleToolchain>> optional) {
+    @Nullable ImmutableMap<String, AppleToolchain> value = optional.orElse(null);
+    if (this.appleToolchains == value) return this;
+    return new SdkEnvironment(this, this.appleSdkPaths, value, this.androidSdkPath, this.androidNdkPath, this.ndkVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractSdkEnvironment#getAndroidSdkPath() androidSdkPath} attribute.
+   * @param value The value for androidSdkPath
+   * @return A modified copy of {@code this} object
+   */
+  public final SdkEnvironment withAndroidSdkPath(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "androidSdkPath");
+    if (this.androidSdkPath == newValue) return this;
+    return new SdkEnvironment(this, this.appleSdkPaths, this.appleToolchains, newValue, this.androidNdkPath, this.ndkVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractSdkEnvironment#getAndroidSdkPath() androidSdkPath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for androidSdkPath
+   * @return A modified copy of {@code this} object
+   */
+  public final SdkEnvironment withAndroidSdkPath(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.androidSdkPath == value) return this;
+    return new SdkEnvironment(this, this.appleSdkPaths, this.appleToolchains, value, this.androidNdkPath, this.ndkVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractSdkEnvironment#getAndroidNdkPath() androidNdkPath} attribute.
+   * @param value The value for androidNdkPath
+   * @return A modified copy of {@code this} object
+   */
+  public final SdkEnvironment withAndroidNdkPath(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "androidNdkPath");
+    if (this.androidNdkPath == newValue) return this;
+    return new SdkEnvironment(this, this.appleSdkPaths, this.appleToolchains, this.androidSdkPath, newValue, this.ndkVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractSdkEnvironment#getAndroidNdkPath() androidNdkPath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for androidNdkPath
+   * @return A modified copy of {@code this} object
+   */
+  public final SdkEnvironment withAndroidNdkPath(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.androidNdkPath == value) return this;
+    return new SdkEnvironment(this, this.appleSdkPaths, this.appleToolchains, this.androidSdkPath, value, this.ndkVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractSdkEnvironment#getNdkVersion() ndkVersion} attribute.
+   * @param value The value for ndkVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final SdkEnvironment withNdkVersion(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "ndkVersion");
+    if (Objects.equals(this.ndkVersion, newValue)) return this;
+    return new SdkEnvironment(
+        this,
+        this.appleSdkPaths,
+        this.appleToolchains,
+        this.androidSdkPath,
+        this.androidNdkPath,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractSdkEnvironment#getNdkVersion() ndkVersion} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for ndkVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final SdkEnvironment withNdkVersion(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.ndkVersion, value)) return this;
+    return new SdkEnvironment(this, this.appleSdkPaths, this.appleToolchains, this.androidSdkPath, this.androidNdkPath, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SdkEnvironment} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SdkEnvironment
+        && equalTo((SdkEnvironment) another);
+  }
+
+  private boolean equalTo(SdkEnvironment another) {
+    return Objects.equals(appleSdkPaths, another.appleSdkPaths)
+        && Objects.equals(appleToolchains, another.appleToolchains)
+        && Objects.equals(androidSdkPath, another.androidSdkPath)
+        && Objects.equals(androidNdkPath, another.androidNdkPath)
+        && Objects.equals(ndkVersion, another.ndkVersion);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code appleSdkPaths}, {@code appleToolchains}, {@code androidSdkPath}, {@code androidNdkPath}, {@code ndkVersion}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(appleSdkPaths);
+    h += (h << 5) + Objects.hashCode(appleToolchains);
+    h += (h << 5) + Objects.hashCode(androidSdkPath);
+    h += (h << 5) + Objects.hashCode(androidNdkPath);
+    h += (h << 5) + Objects.hashCode(ndkVersion);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SdkEnvironment} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SdkEnvironment")
+        .omitNullValues()
+        .add("appleSdkPaths", appleSdkPaths)
+        .add("appleToolchains", appleToolchains)
+        .add("androidSdkPath", androidSdkPath)
+        .add("androidNdkPath", androidNdkPath)
+        .add("ndkVersion", ndkVersion)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SdkEnvironment} instance.
+   * @param appleSdkPaths The value for the {@code appleSdkPaths} attribute
+   * @param appleToolchains The value for the {@code appleToolchains} attribute
+   * @param androidSdkPath The value for the {@code androidSdkPath} attribute
+   * @param androidNdkPath The value for the {@code androidNdkPath} attribute
+   * @param ndkVersion The value for the {@code ndkVersion} attribute
+   * @return An immutable SdkEnvironment instance
+   */
+  public static SdkEnvironment of(Optional<? extends ImmutableMap<AppleSdk, AppleSdkPaths>> appleSdkPaths, Optional<? extends ImmutableMap<String, AppleToolchain>> appleToolchains, Optional<? extends Path> androidSdkPath, Optional<? extends Path> androidNdkPath, Optional<String> ndkVersion) {
+    return new SdkEnvironment(appleSdkPaths, appleToolchains, androidSdkPath, androidNdkPath, ndkVersion);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractSdkEnvironment} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable SdkEnvironment instance
+   */
+  static SdkEnvironment copyOf(AbstractSdkEnvironment instance) {
+    if (instance instanceof SdkEnvironment) {
+      return (SdkEnvironment) instance;
+    }
+    return SdkEnvironment.of(instance.getAppleSdkPaths(), instance.getAppleToolchains(), instance.getAndroidSdkPath(), instance.getAndroidNdkPath(), instance.getNdkVersion());
+  }
+}
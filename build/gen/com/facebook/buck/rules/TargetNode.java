@@ -0,0 +1,872 @@
+package com.facebook.buck.rules;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.versions.Version;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.HashCode;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A {@link TargetNode} represents a node in the target graph which is created by the {@link
+ * com.facebook.buck.parser.Parser} as a result of parsing BUCK files in a project. It is
+ * responsible for processing the raw (python) inputs of a build rule, and gathering any build
+ * targets and paths referenced from those inputs.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractTargetNode<T, U>"})
+@Immutable
+public final class TargetNode<T, U extends Description<T>>
+    extends AbstractTargetNode<T, U> {
+  private final BuildTarget buildTarget;
+  private final TargetNodeFactory targetNodeFactory;
+  private final HashCode rawInputsHashCode;
+  private final U description;
+  private final T constructorArg;
+  private final ProjectFilesystem filesystem;
+  private final ImmutableSet<Path> inputs;
+  private final ImmutableSet<BuildTarget> declaredDeps;
+  private final ImmutableSortedSet<BuildTarget> extraDeps;
+  private final ImmutableSortedSet<BuildTarget> targetGraphOnlyDeps;
+  private final CellPathResolver cellNames;
+  private final ImmutableSet<VisibilityPattern> visibilityPatterns;
+  private final ImmutableSet<VisibilityPattern> withinViewPatterns;
+  private final @Nullable ImmutableMap<BuildTarget, Version> selectedVersions;
+  private final int hashCode;
+
+  private TargetNode(
+      BuildTarget buildTarget,
+      TargetNodeFactory targetNodeFactory,
+      HashCode rawInputsHashCode,
+      U description,
+      T constructorArg,
+      ProjectFilesystem filesystem,
+      Iterable<? extends Path> inputs,
+      Iterable<? extends BuildTarget> declaredDeps,
+      ImmutableSortedSet<BuildTarget> extraDeps,
+      ImmutableSortedSet<BuildTarget> targetGraphOnlyDeps,
+      CellPathResolver cellNames,
+      Iterable<? extends VisibilityPattern> visibilityPatterns,
+      Iterable<? extends VisibilityPattern> withinViewPatterns,
+      Optional<? extends ImmutableMap<BuildTarget, Version>> selectedVersions) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.targetNodeFactory = Objects.requireNonNull(targetNodeFactory, "targetNodeFactory");
+    this.rawInputsHashCode = Objects.requireNonNull(rawInputsHashCode, "rawInputsHashCode");
+    this.description = Objects.requireNonNull(description, "description");
+    this.constructorArg = Objects.requireNonNull(constructorArg, "constructorArg");
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.inputs = ImmutableSet.copyOf(inputs);
+    this.declaredDeps = ImmutableSet.copyOf(declaredDeps);
+    this.extraDeps = Objects.requireNonNull(extraDeps, "extraDeps");
+    this.targetGraphOnlyDeps = Objects.requireNonNull(targetGraphOnlyDeps, "targetGraphOnlyDeps");
+    this.cellNames = Objects.requireNonNull(cellNames, "cellNames");
+    this.visibilityPatterns = ImmutableSet.copyOf(visibilityPatterns);
+    this.withinViewPatterns = ImmutableSet.copyOf(withinViewPatterns);
+    this.selectedVersions = selectedVersions.orElse(null);
+    this.hashCode = computeHashCode();
+  }
+
+  private TargetNode(
+      TargetNode original,
+      BuildTarget buildTarget,
+      TargetNodeFactory targetNodeFactory,
+      HashCode rawInputsHashCode,
+      U description,
+      T constructorArg,
+      ProjectFilesystem filesystem,
+      ImmutableSet<Path> inputs,
+      ImmutableSet<BuildTarget> declaredDeps,
+      ImmutableSortedSet<BuildTarget> extraDeps,
+      ImmutableSortedSet<BuildTarget> targetGraphOnlyDeps,
+      CellPathResolver cellNames,
+      ImmutableSet<VisibilityPattern> visibilityPatterns,
+      ImmutableSet<VisibilityPattern> withinViewPatterns,
+      @Nullable ImmutableMap<BuildTarget, Version> selectedVersions) {
+    this.buildTarget = buildTarget;
+    this.targetNodeFactory = targetNodeFactory;
+    this.rawInputsHashCode = rawInputsHashCode;
+    this.description = description;
+    this.constructorArg = constructorArg;
+    this.filesystem = filesystem;
+    this.inputs = inputs;
+    this.declaredDeps = declaredDeps;
+    this.extraDeps = extraDeps;
+    this.targetGraphOnlyDeps = targetGraphOnlyDeps;
+    this.cellNames = cellNames;
+    this.visibilityPatterns = visibilityPatterns;
+    this.withinViewPatterns = withinViewPatterns;
+    this.selectedVersions = selectedVersions;
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code targetNodeFactory} attribute
+   */
+  @Override
+  public TargetNodeFactory getTargetNodeFactory() {
+    return targetNodeFactory;
+  }
+
+  /**
+   *@return A hash of the raw input from the build file used to construct the node. 
+   */
+  @Override
+  public HashCode getRawInputsHashCode() {
+    return rawInputsHashCode;
+  }
+
+  /**
+   * @return The value of the {@code description} attribute
+   */
+  @Override
+  public U getDescription() {
+    return description;
+  }
+
+  /**
+   * @return The value of the {@code constructorArg} attribute
+   */
+  @Override
+  public T getConstructorArg() {
+    return constructorArg;
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code inputs} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getInputs() {
+    return inputs;
+  }
+
+  /**
+   * @return The value of the {@code declaredDeps} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getDeclaredDeps() {
+    return declaredDeps;
+  }
+
+  /**
+   * @return The value of the {@code extraDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getExtraDeps() {
+    return extraDeps;
+  }
+
+  /**
+   * BuildTargets which, when changed, may change the BuildRules produced by this TargetNode, but
+   * whose steps don't need executing in order to build this TargetNode's BuildRules.
+   * <p>A TargetNode may require metadata from other targets in order to be constructed, but may not
+   * actually require those targets' build output. For example, some targets may execute queries
+   * against the TargetGraph (e.g. detecting the names of rules of a certain type) but don't use the
+   * output of those detected rules.
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTargetGraphOnlyDeps() {
+    return targetGraphOnlyDeps;
+  }
+
+  /**
+   * @return The value of the {@code cellNames} attribute
+   */
+  @Override
+  public CellPathResolver getCellNames() {
+    return cellNames;
+  }
+
+  /**
+   * @return The value of the {@code visibilityPatterns} attribute
+   */
+  @Override
+  public ImmutableSet<VisibilityPattern> getVisibilityPatterns() {
+    return visibilityPatterns;
+  }
+
+  /**
+   * @return The value of the {@code withinViewPatterns} attribute
+   */
+  @Override
+  public ImmutableSet<VisibilityPattern> getWithinViewPatterns() {
+    return withinViewPatterns;
+  }
+
+  /**
+   * @return The value of the {@code selectedVersions} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<BuildTarget, Version>> getSelectedVersions() {
+    return Optional.ofNullable(selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTargetNode#getBuildTarget() buildTarget} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildTarget
+   * @return A modified copy of the {@code this} object
+   */
+  public final TargetNode<T, U> withBuildTarget(BuildTarget value) {
+    if (this.buildTarget == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "buildTarget");
+    return new TargetNode<T, U>(
+        this,
+        newValue,
+        this.targetNodeFactory,
+        this.rawInputsHashCode,
+        this.description,
+        this.constructorArg,
+        this.filesystem,
+        this.inputs,
+        this.declaredDeps,
+        this.extraDeps,
+        this.targetGraphOnlyDeps,
+        this.cellNames,
+        this.visibilityPatterns,
+        this.withinViewPatterns,
+        this.selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTargetNode#getTargetNodeFactory() targetNodeFactory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for targetNodeFactory
+   * @return A modified copy of the {@code this} object
+   */
+  public final TargetNode<T, U> withTargetNodeFactory(TargetNodeFactory value) {
+    if (this.targetNodeFactory == value) return this;
+    TargetNodeFactory newValue = Objects.requireNonNull(value, "targetNodeFactory");
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        newValue,
+        this.rawInputsHashCode,
+        this.description,
+        this.constructorArg,
+        this.filesystem,
+        this.inputs,
+        this.declaredDeps,
+        this.extraDeps,
+        this.targetGraphOnlyDeps,
+        this.cellNames,
+        this.visibilityPatterns,
+        this.withinViewPatterns,
+        this.selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTargetNode#getRawInputsHashCode() rawInputsHashCode} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for rawInputsHashCode
+   * @return A modified copy of the {@code this} object
+   */
+  public final TargetNode<T, U> withRawInputsHashCode(HashCode value) {
+    if (this.rawInputsHashCode == value) return this;
+    HashCode newValue = Objects.requireNonNull(value, "rawInputsHashCode");
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        this.targetNodeFactory,
+        newValue,
+        this.description,
+        this.constructorArg,
+        this.filesystem,
+        this.inputs,
+        this.declaredDeps,
+        this.extraDeps,
+        this.targetGraphOnlyDeps,
+        this.cellNames,
+        this.visibilityPatterns,
+        this.withinViewPatterns,
+        this.selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTargetNode#getDescription() description} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for description
+   * @return A modified copy of the {@code this} object
+   */
+  public final TargetNode<T, U> withDescription(U value) {
+    if (this.description == value) return this;
+    U newValue = Objects.requireNonNull(value, "description");
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        this.targetNodeFactory,
+        this.rawInputsHashCode,
+        newValue,
+        this.constructorArg,
+        this.filesystem,
+        this.inputs,
+        this.declaredDeps,
+        this.extraDeps,
+        this.targetGraphOnlyDeps,
+        this.cellNames,
+        this.visibilityPatterns,
+        this.withinViewPatterns,
+        this.selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTargetNode#getConstructorArg() constructorArg} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for constructorArg
+   * @return A modified copy of the {@code this} object
+   */
+  public final TargetNode<T, U> withConstructorArg(T value) {
+    if (this.constructorArg == value) return this;
+    T newValue = Objects.requireNonNull(value, "constructorArg");
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        this.targetNodeFactory,
+        this.rawInputsHashCode,
+        this.description,
+        newValue,
+        this.filesystem,
+        this.inputs,
+        this.declaredDeps,
+        this.extraDeps,
+        this.targetGraphOnlyDeps,
+        this.cellNames,
+        this.visibilityPatterns,
+        this.withinViewPatterns,
+        this.selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTargetNode#getFilesystem() filesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for filesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final TargetNode<T, U> withFilesystem(ProjectFilesystem value) {
+    if (this.filesystem == value) return this;
+    ProjectFilesystem newValue = Objects.requireNonNull(value, "filesystem");
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        this.targetNodeFactory,
+        this.rawInputsHashCode,
+        this.description,
+        this.constructorArg,
+        newValue,
+        this.inputs,
+        this.declaredDeps,
+        this.extraDeps,
+        this.targetGraphOnlyDeps,
+        this.cellNames,
+        this.visibilityPatterns,
+        this.withinViewPatterns,
+        this.selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTargetNode#getInputs() inputs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TargetNode<T, U> withInputs(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        this.targetNodeFactory,
+        this.rawInputsHashCode,
+        this.description,
+        this.constructorArg,
+        this.filesystem,
+        newValue,
+        this.declaredDeps,
+        this.extraDeps,
+        this.targetGraphOnlyDeps,
+        this.cellNames,
+        this.visibilityPatterns,
+        this.withinViewPatterns,
+        this.selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTargetNode#getInputs() inputs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of inputs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TargetNode<T, U> withInputs(Iterable<? extends Path> elements) {
+    if (this.inputs == elements) return this;
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        this.targetNodeFactory,
+        this.rawInputsHashCode,
+        this.description,
+        this.constructorArg,
+        this.filesystem,
+        newValue,
+        this.declaredDeps,
+        this.extraDeps,
+        this.targetGraphOnlyDeps,
+        this.cellNames,
+        this.visibilityPatterns,
+        this.withinViewPatterns,
+        this.selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTargetNode#getDeclaredDeps() declaredDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TargetNode<T, U> withDeclaredDeps(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        this.targetNodeFactory,
+        this.rawInputsHashCode,
+        this.description,
+        this.constructorArg,
+        this.filesystem,
+        this.inputs,
+        newValue,
+        this.extraDeps,
+        this.targetGraphOnlyDeps,
+        this.cellNames,
+        this.visibilityPatterns,
+        this.withinViewPatterns,
+        this.selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTargetNode#getDeclaredDeps() declaredDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of declaredDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TargetNode<T, U> withDeclaredDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.declaredDeps == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        this.targetNodeFactory,
+        this.rawInputsHashCode,
+        this.description,
+        this.constructorArg,
+        this.filesystem,
+        this.inputs,
+        newValue,
+        this.extraDeps,
+        this.targetGraphOnlyDeps,
+        this.cellNames,
+        this.visibilityPatterns,
+        this.withinViewPatterns,
+        this.selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTargetNode#getExtraDeps() extraDeps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for extraDeps
+   * @return A modified copy of the {@code this} object
+   */
+  public final TargetNode<T, U> withExtraDeps(ImmutableSortedSet<BuildTarget> value) {
+    if (this.extraDeps == value) return this;
+    ImmutableSortedSet<BuildTarget> newValue = Objects.requireNonNull(value, "extraDeps");
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        this.targetNodeFactory,
+        this.rawInputsHashCode,
+        this.description,
+        this.constructorArg,
+        this.filesystem,
+        this.inputs,
+        this.declaredDeps,
+        newValue,
+        this.targetGraphOnlyDeps,
+        this.cellNames,
+        this.visibilityPatterns,
+        this.withinViewPatterns,
+        this.selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTargetNode#getTargetGraphOnlyDeps() targetGraphOnlyDeps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for targetGraphOnlyDeps
+   * @return A modified copy of the {@code this} object
+   */
+  public final TargetNode<T, U> withTargetGraphOnlyDeps(ImmutableSortedSet<BuildTarget> value) {
+    if (this.targetGraphOnlyDeps == value) return this;
+    ImmutableSortedSet<BuildTarget> newValue = Objects.requireNonNull(value, "targetGraphOnlyDeps");
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        this.targetNodeFactory,
+        this.rawInputsHashCode,
+        this.description,
+        this.constructorArg,
+        this.filesystem,
+        this.inputs,
+        this.declaredDeps,
+        this.extraDeps,
+        newValue,
+        this.cellNames,
+        this.visibilityPatterns,
+        this.withinViewPatterns,
+        this.selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTargetNode#getCellNames() cellNames} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cellNames
+   * @return A modified copy of the {@code this} object
+   */
+  public final TargetNode<T, U> withCellNames(CellPathResolver value) {
+    if (this.cellNames == value) return this;
+    CellPathResolver newValue = Objects.requireNonNull(value, "cellNames");
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        this.targetNodeFactory,
+        this.rawInputsHashCode,
+        this.description,
+        this.constructorArg,
+        this.filesystem,
+        this.inputs,
+        this.declaredDeps,
+        this.extraDeps,
+        this.targetGraphOnlyDeps,
+        newValue,
+        this.visibilityPatterns,
+        this.withinViewPatterns,
+        this.selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTargetNode#getVisibilityPatterns() visibilityPatterns}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TargetNode<T, U> withVisibilityPatterns(VisibilityPattern... elements) {
+    ImmutableSet<VisibilityPattern> newValue = ImmutableSet.copyOf(elements);
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        this.targetNodeFactory,
+        this.rawInputsHashCode,
+        this.description,
+        this.constructorArg,
+        this.filesystem,
+        this.inputs,
+        this.declaredDeps,
+        this.extraDeps,
+        this.targetGraphOnlyDeps,
+        this.cellNames,
+        newValue,
+        this.withinViewPatterns,
+        this.selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTargetNode#getVisibilityPatterns() visibilityPatterns}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of visibilityPatterns elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TargetNode<T, U> withVisibilityPatterns(Iterable<? extends VisibilityPattern> elements) {
+    if (this.visibilityPatterns == elements) return this;
+    ImmutableSet<VisibilityPattern> newValue = ImmutableSet.copyOf(elements);
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        this.targetNodeFactory,
+        this.rawInputsHashCode,
+        this.description,
+        this.constructorArg,
+        this.filesystem,
+        this.inputs,
+        this.declaredDeps,
+        this.extraDeps,
+        this.targetGraphOnlyDeps,
+        this.cellNames,
+        newValue,
+        this.withinViewPatterns,
+        this.selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTargetNode#getWithinViewPatterns() withinViewPatterns}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TargetNode<T, U> withWithinViewPatterns(VisibilityPattern... elements) {
+    ImmutableSet<VisibilityPattern> newValue = ImmutableSet.copyOf(elements);
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        this.targetNodeFactory,
+        this.rawInputsHashCode,
+        this.description,
+        this.constructorArg,
+        this.filesystem,
+        this.inputs,
+        this.declaredDeps,
+        this.extraDeps,
+        this.targetGraphOnlyDeps,
+        this.cellNames,
+        this.visibilityPatterns,
+        newValue,
+        this.selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTargetNode#getWithinViewPatterns() withinViewPatterns}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of withinViewPatterns elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TargetNode<T, U> withWithinViewPatterns(Iterable<? extends VisibilityPattern> elements) {
+    if (this.withinViewPatterns == elements) return this;
+    ImmutableSet<VisibilityPattern> newValue = ImmutableSet.copyOf(elements);
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        this.targetNodeFactory,
+        this.rawInputsHashCode,
+        this.description,
+        this.constructorArg,
+        this.filesystem,
+        this.inputs,
+        this.declaredDeps,
+        this.extraDeps,
+        this.targetGraphOnlyDeps,
+        this.cellNames,
+        this.visibilityPatterns,
+        newValue,
+        this.selectedVersions);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractTargetNode#getSelectedVersions() selectedVersions} attribute.
+   * @param value The value for selectedVersions
+   * @return A modified copy of {@code this} object
+   */
+  public final TargetNode<T, U> withSelectedVersions(ImmutableMap<BuildTarget, Version> value) {
+    @Nullable ImmutableMap<BuildTarget, Version> newValue = Objects.requireNonNull(value, "selectedVersions");
+    if (this.selectedVersions == newValue) return this;
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        this.targetNodeFactory,
+        this.rawInputsHashCode,
+        this.description,
+        this.constructorArg,
+        this.filesystem,
+        this.inputs,
+        this.declaredDeps,
+        this.extraDeps,
+        this.targetGraphOnlyDeps,
+        this.cellNames,
+        this.visibilityPatterns,
+        this.withinViewPatterns,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractTargetNode#getSelectedVersions() selectedVersions} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for selectedVersions
+   * @return A modified copy of {@code this} object
+   */
+  public final TargetNode<T, U> withSelectedVersions(Optional<? extends ImmutableMap<BuildTarget, Version>> optional) {
+    @Nullable ImmutableMap<BuildTarget, Version> value = optional.orElse(null);
+    if (this.selectedVersions == value) return this;
+    return new TargetNode<T, U>(
+        this,
+        this.buildTarget,
+        this.targetNodeFactory,
+        this.rawInputsHashCode,
+        this.description,
+        this.constructorArg,
+        this.filesystem,
+        this.inputs,
+        this.declaredDeps,
+        this.extraDeps,
+        this.targetGraphOnlyDeps,
+        this.cellNames,
+        this.visibilityPatterns,
+        this.withinViewPatterns,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TargetNode} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TargetNode<?, ?>
+        && equalTo((TargetNode<T, U>) another);
+  }
+
+  private boolean equalTo(TargetNode<T, U> another) {
+    if (hashCode != another.hashCode) return false;
+    return buildTarget.equals(another.buildTarget)
+        && targetNodeFactory.equals(another.targetNodeFactory)
+        && rawInputsHashCode.equals(another.rawInputsHashCode)
+        && constructorArg.equals(another.constructorArg)
+        && filesystem.equals(another.filesystem)
+        && inputs.equals(another.inputs)
+        && declaredDeps.equals(another.declaredDeps)
+        && extraDeps.equals(another.extraDeps)
+        && targetGraphOnlyDeps.equals(another.targetGraphOnlyDeps)
+        && cellNames.equals(another.cellNames)
+        && visibilityPatterns.equals(another.visibilityPatterns)
+        && withinViewPatterns.equals(another.withinViewPatterns)
+        && Objects.equals(selectedVersions, another.selectedVersions);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code buildTarget}, {@code targetNodeFactory}, {@code rawInputsHashCode}, {@code constructorArg}, {@code filesystem}, {@code inputs}, {@code declaredDeps}, {@code extraDeps}, {@code targetGraphOnlyDeps}, {@code cellNames}, {@code visibilityPatterns}, {@code withinViewPatterns}, {@code selectedVersions}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + targetNodeFactory.hashCode();
+    h += (h << 5) + rawInputsHashCode.hashCode();
+    h += (h << 5) + constructorArg.hashCode();
+    h += (h << 5) + filesystem.hashCode();
+    h += (h << 5) + inputs.hashCode();
+    h += (h << 5) + declaredDeps.hashCode();
+    h += (h << 5) + extraDeps.hashCode();
+    h += (h << 5) + targetGraphOnlyDeps.hashCode();
+    h += (h << 5) + cellNames.hashCode();
+    h += (h << 5) + visibilityPatterns.hashCode();
+    h += (h << 5) + withinViewPatterns.hashCode();
+    h += (h << 5) + Objects.hashCode(selectedVersions);
+    return h;
+  }
+
+  private volatile long lazyInitBitmap;
+
+  private static final long VISIBILITY_CHECKER_LAZY_INIT_BIT = 0x1L;
+
+  private VisibilityChecker visibilityChecker;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractTargetNode#getVisibilityChecker() visibilityChecker} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public VisibilityChecker getVisibilityChecker() {
+    if ((lazyInitBitmap & VISIBILITY_CHECKER_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & VISIBILITY_CHECKER_LAZY_INIT_BIT) == 0) {
+          this.visibilityChecker = Objects.requireNonNull(super.getVisibilityChecker(), "visibilityChecker");
+          lazyInitBitmap |= VISIBILITY_CHECKER_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return visibilityChecker;
+  }
+
+  /**
+   * Construct a new immutable {@code TargetNode} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param targetNodeFactory The value for the {@code targetNodeFactory} attribute
+   * @param rawInputsHashCode The value for the {@code rawInputsHashCode} attribute
+   * @param description The value for the {@code description} attribute
+   * @param constructorArg The value for the {@code constructorArg} attribute
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param inputs The value for the {@code inputs} attribute
+   * @param declaredDeps The value for the {@code declaredDeps} attribute
+   * @param extraDeps The value for the {@code extraDeps} attribute
+   * @param targetGraphOnlyDeps The value for the {@code targetGraphOnlyDeps} attribute
+   * @param cellNames The value for the {@code cellNames} attribute
+   * @param visibilityPatterns The value for the {@code visibilityPatterns} attribute
+   * @param withinViewPatterns The value for the {@code withinViewPatterns} attribute
+   * @param selectedVersions The value for the {@code selectedVersions} attribute
+   * @return An immutable TargetNode instance
+   */
+  public static <T, U extends Description<T>> TargetNode<T, U> of(BuildTarget buildTarget, TargetNodeFactory targetNodeFactory, HashCode rawInputsHashCode, U description, T constructorArg, ProjectFilesystem filesystem, ImmutableSet<Path> inputs, ImmutableSet<BuildTarget> declaredDeps, ImmutableSortedSet<BuildTarget> extraDeps, ImmutableSortedSet<BuildTarget> targetGraphOnlyDeps, CellPathResolver cellNames, ImmutableSet<VisibilityPattern> visibilityPatterns, ImmutableSet<VisibilityPattern> withinViewPatterns, Optional<ImmutableMap<BuildTarget, Version>> selectedVersions) {
+    return of(buildTarget, targetNodeFactory, rawInputsHashCode, description, constructorArg, filesystem, (Iterable<? extends Path>) inputs, (Iterable<? extends BuildTarget>) declaredDeps, extraDeps, targetGraphOnlyDeps, cellNames, (Iterable<? extends VisibilityPattern>) visibilityPatterns, (Iterable<? extends VisibilityPattern>) withinViewPatterns, selectedVersions);
+  }
+
+  /**
+   * Construct a new immutable {@code TargetNode} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param targetNodeFactory The value for the {@code targetNodeFactory} attribute
+   * @param rawInputsHashCode The value for the {@code rawInputsHashCode} attribute
+   * @param description The value for the {@code description} attribute
+   * @param constructorArg The value for the {@code constructorArg} attribute
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param inputs The value for the {@code inputs} attribute
+   * @param declaredDeps The value for the {@code declaredDeps} attribute
+   * @param extraDeps The value for the {@code extraDeps} attribute
+   * @param targetGraphOnlyDeps The value for the {@code targetGraphOnlyDeps} attribute
+   * @param cellNames The value for the {@code cellNames} attribute
+   * @param visibilityPatterns The value for the {@code visibilityPatterns} attribute
+   * @param withinViewPatterns The value for the {@code withinViewPatterns} attribute
+   * @param selectedVersions The value for the {@code selectedVersions} attribute
+   * @return An immutable TargetNode instance
+   */
+  public static <T, U extends Description<T>> TargetNode<T, U> of(BuildTarget buildTarget, TargetNodeFactory targetNodeFactory, HashCode rawInputsHashCode, U description, T constructorArg, ProjectFilesystem filesystem, Iterable<? extends Path> inputs, Iterable<? extends BuildTarget> declaredDeps, ImmutableSortedSet<BuildTarget> extraDeps, ImmutableSortedSet<BuildTarget> targetGraphOnlyDeps, CellPathResolver cellNames, Iterable<? extends VisibilityPattern> visibilityPatterns, Iterable<? extends VisibilityPattern> withinViewPatterns, Optional<? extends ImmutableMap<BuildTarget, Version>> selectedVersions) {
+    return new TargetNode<T, U>(buildTarget, targetNodeFactory, rawInputsHashCode, description, constructorArg, filesystem, inputs, declaredDeps, extraDeps, targetGraphOnlyDeps, cellNames, visibilityPatterns, withinViewPatterns, selectedVersions);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractTargetNode} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param <T> generic parameter T
+   * @param <U> generic parameter U
+   * @param instance The instance to copy
+   * @return A copied immutable TargetNode instance
+   */
+  static <T, U extends Description<T>> TargetNode<T, U> copyOf(AbstractTargetNode<T, U> instance) {
+    if (instance instanceof TargetNode<?, ?>) {
+      return (TargetNode<T, U>) instance;
+    }
+    return TargetNode.<T, U>of(instance.getBuildTarget(), instance.getTargetNodeFactory(), instance.getRawInputsHashCode(), instance.getDescription(), instance.getConstructorArg(), instance.getFilesystem(), instance.getInputs(), instance.getDeclaredDeps(), instance.getExtraDeps(), instance.getTargetGraphOnlyDeps(), instance.getCellNames(), instance.getVisibilityPatterns(), instance.getWithinViewPatterns(), instance.getSelectedVersions());
+  }
+}
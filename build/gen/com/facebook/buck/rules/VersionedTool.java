@@ -0,0 +1,369 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A {@link Tool} which only contributes a fixed name and version when appended to a rule key. This
+ * class also holds a {@link Path} reference to the tool and additional flags used when invoking the
+ * tool, which do *not* themselves contribute to the rule key. This is useful in situations such as
+ * supporting cross-compilation, in which case the different tools themselves might not be
+ * bit-by-bit identical (and, similarly, they might need to invoked with slightly different flags)
+ * but we know that they produce identical output, in which case they should also generate identical
+ * rule keys.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractVersionedTool"})
+@Immutable
+public final class VersionedTool extends AbstractVersionedTool {
+  private final Path path;
+  private final ImmutableList<String> extraArgs;
+  private final String name;
+  private final String version;
+
+  private VersionedTool(Path path, String name, String version) {
+    this.path = Objects.requireNonNull(path, "path");
+    this.name = Objects.requireNonNull(name, "name");
+    this.version = Objects.requireNonNull(version, "version");
+    this.extraArgs = ImmutableList.of();
+  }
+
+  private VersionedTool(
+      Path path,
+      ImmutableList<String> extraArgs,
+      String name,
+      String version) {
+    this.path = path;
+    this.extraArgs = extraArgs;
+    this.name = name;
+    this.version = version;
+  }
+
+  /**
+   *The path to the tool. The contents or path to the tool do not contribute to the rule key. 
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   *Additional flags that we pass to the tool, but which do *not* contribute to the rule key. 
+   */
+  @Override
+  public ImmutableList<String> getExtraArgs() {
+    return extraArgs;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code version} attribute
+   */
+  @Override
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractVersionedTool#getPath() path} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final VersionedTool withPath(Path value) {
+    if (this.path == value) return this;
+    Path newValue = Objects.requireNonNull(value, "path");
+    return new VersionedTool(newValue, this.extraArgs, this.name, this.version);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractVersionedTool#getExtraArgs() extraArgs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionedTool withExtraArgs(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new VersionedTool(this.path, newValue, this.name, this.version);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractVersionedTool#getExtraArgs() extraArgs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of extraArgs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionedTool withExtraArgs(Iterable<String> elements) {
+    if (this.extraArgs == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new VersionedTool(this.path, newValue, this.name, this.version);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractVersionedTool#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final VersionedTool withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new VersionedTool(this.path, this.extraArgs, newValue, this.version);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractVersionedTool#getVersion() version} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for version
+   * @return A modified copy of the {@code this} object
+   */
+  public final VersionedTool withVersion(String value) {
+    if (this.version.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "version");
+    return new VersionedTool(this.path, this.extraArgs, this.name, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code VersionedTool} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof VersionedTool
+        && equalTo((VersionedTool) another);
+  }
+
+  private boolean equalTo(VersionedTool another) {
+    return path.equals(another.path)
+        && extraArgs.equals(another.extraArgs)
+        && name.equals(another.name)
+        && version.equals(another.version);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}, {@code extraArgs}, {@code name}, {@code version}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + extraArgs.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + version.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code VersionedTool} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("VersionedTool")
+        .omitNullValues()
+        .add("path", path)
+        .add("extraArgs", extraArgs)
+        .add("name", name)
+        .add("version", version)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code VersionedTool} instance.
+   * @param path The value for the {@code path} attribute
+   * @param name The value for the {@code name} attribute
+   * @param version The value for the {@code version} attribute
+   * @return An immutable VersionedTool instance
+   */
+  public static VersionedTool of(Path path, String name, String version) {
+    return new VersionedTool(path, name, version);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractVersionedTool} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable VersionedTool instance
+   */
+  static VersionedTool copyOf(AbstractVersionedTool instance) {
+    if (instance instanceof VersionedTool) {
+      return (VersionedTool) instance;
+    }
+    return VersionedTool.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link VersionedTool VersionedTool}.
+   * @return A new VersionedTool builder
+   */
+  public static VersionedTool.Builder builder() {
+    return new VersionedTool.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link VersionedTool VersionedTool}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PATH = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private static final long INIT_BIT_VERSION = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable Path path;
+    private ImmutableList.Builder<String> extraArgs = ImmutableList.builder();
+    private @Nullable String name;
+    private @Nullable String version;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code VersionedTool} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(VersionedTool instance) {
+      return from((AbstractVersionedTool) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractVersionedTool} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractVersionedTool instance) {
+      Objects.requireNonNull(instance, "instance");
+      setPath(instance.getPath());
+      addAllExtraArgs(instance.getExtraArgs());
+      setName(instance.getName());
+      setVersion(instance.getVersion());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractVersionedTool#getPath() path} attribute.
+     * @param path The value for path 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPath(Path path) {
+      this.path = Objects.requireNonNull(path, "path");
+      initBits &= ~INIT_BIT_PATH;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractVersionedTool#getExtraArgs() extraArgs} list.
+     * @param element A extraArgs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraArgs(String element) {
+      this.extraArgs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractVersionedTool#getExtraArgs() extraArgs} list.
+     * @param elements An array of extraArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraArgs(String... elements) {
+      this.extraArgs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractVersionedTool#getExtraArgs() extraArgs} list.
+     * @param elements An iterable of extraArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtraArgs(Iterable<String> elements) {
+      this.extraArgs = ImmutableList.builder();
+      return addAllExtraArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractVersionedTool#getExtraArgs() extraArgs} list.
+     * @param elements An iterable of extraArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExtraArgs(Iterable<String> elements) {
+      this.extraArgs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractVersionedTool#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractVersionedTool#getVersion() version} attribute.
+     * @param version The value for version 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersion(String version) {
+      this.version = Objects.requireNonNull(version, "version");
+      initBits &= ~INIT_BIT_VERSION;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link VersionedTool VersionedTool}.
+     * @return An immutable instance of VersionedTool
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public VersionedTool build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new VersionedTool(path, extraArgs.build(), name, version);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_PATH) != 0) attributes.add("path");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      if ((initBits & INIT_BIT_VERSION) != 0) attributes.add("version");
+      return "Cannot build VersionedTool, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.facebook.buck.rules.args;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *An {@link Arg} which wraps a {@link SourcePath}. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSourcePathArg"})
+@Immutable
+public final class SourcePathArg extends AbstractSourcePathArg {
+  private final SourcePath path;
+
+  private SourcePathArg(SourcePath path) {
+    this.path = Objects.requireNonNull(path, "path");
+  }
+
+  private SourcePathArg(SourcePathArg original, SourcePath path) {
+    this.path = path;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public SourcePath getPath() {
+    return path;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSourcePathArg#getPath() path} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final SourcePathArg withPath(SourcePath value) {
+    if (this.path == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "path");
+    return new SourcePathArg(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SourcePathArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SourcePathArg
+        && equalTo((SourcePathArg) another);
+  }
+
+  private boolean equalTo(SourcePathArg another) {
+    return path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SourcePathArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourcePathArg")
+        .omitNullValues()
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SourcePathArg} instance.
+   * @param path The value for the {@code path} attribute
+   * @return An immutable SourcePathArg instance
+   */
+  public static SourcePathArg of(SourcePath path) {
+    return new SourcePathArg(path);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractSourcePathArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable SourcePathArg instance
+   */
+  static SourcePathArg copyOf(AbstractSourcePathArg instance) {
+    if (instance instanceof SourcePathArg) {
+      return (SourcePathArg) instance;
+    }
+    return SourcePathArg.of(instance.getPath());
+  }
+}
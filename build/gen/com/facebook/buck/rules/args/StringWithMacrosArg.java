@@ -0,0 +1,292 @@
+package com.facebook.buck.rules.args;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.BuildRuleResolver;
+import com.facebook.buck.rules.CellPathResolver;
+import com.facebook.buck.rules.macros.AbstractMacroExpanderWithoutPrecomputedWork;
+import com.facebook.buck.rules.macros.Macro;
+import com.facebook.buck.rules.macros.StringWithMacros;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Packages a {@link StringWithMacros} along with necessary objects to implement the {@link Arg}
+ * interface.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractStringWithMacrosArg"})
+@Immutable
+public final class StringWithMacrosArg extends AbstractStringWithMacrosArg {
+  private final StringWithMacros stringWithMacros;
+  private final ImmutableList<AbstractMacroExpanderWithoutPrecomputedWork<? extends Macro>> expanders;
+  private final BuildTarget buildTarget;
+  private final CellPathResolver cellPathResolver;
+  private final BuildRuleResolver buildRuleResolver;
+  private final ImmutableMap<Class<? extends Macro>, AbstractMacroExpanderWithoutPrecomputedWork<? extends Macro>> classExpanders;
+
+  private StringWithMacrosArg(
+      StringWithMacros stringWithMacros,
+      Iterable<? extends AbstractMacroExpanderWithoutPrecomputedWork<? extends Macro>> expanders,
+      BuildTarget buildTarget,
+      CellPathResolver cellPathResolver,
+      BuildRuleResolver buildRuleResolver) {
+    this.stringWithMacros = Objects.requireNonNull(stringWithMacros, "stringWithMacros");
+    this.expanders = ImmutableList.copyOf(expanders);
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.cellPathResolver = Objects.requireNonNull(cellPathResolver, "cellPathResolver");
+    this.buildRuleResolver = Objects.requireNonNull(buildRuleResolver, "buildRuleResolver");
+    this.classExpanders = Objects.requireNonNull(super.getClassExpanders(), "classExpanders");
+  }
+
+  private StringWithMacrosArg(
+      StringWithMacrosArg original,
+      StringWithMacros stringWithMacros,
+      ImmutableList<AbstractMacroExpanderWithoutPrecomputedWork<? extends Macro>> expanders,
+      BuildTarget buildTarget,
+      CellPathResolver cellPathResolver,
+      BuildRuleResolver buildRuleResolver) {
+    this.stringWithMacros = stringWithMacros;
+    this.expanders = expanders;
+    this.buildTarget = buildTarget;
+    this.cellPathResolver = cellPathResolver;
+    this.buildRuleResolver = buildRuleResolver;
+    this.classExpanders = Objects.requireNonNull(super.getClassExpanders(), "classExpanders");
+  }
+
+  /**
+   * @return The value of the {@code stringWithMacros} attribute
+   */
+  @Override
+  public StringWithMacros getStringWithMacros() {
+    return stringWithMacros;
+  }
+
+  /**
+   * @return The value of the {@code expanders} attribute
+   */
+  @Override
+  public ImmutableList<AbstractMacroExpanderWithoutPrecomputedWork<? extends Macro>> getExpanders() {
+    return expanders;
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code cellPathResolver} attribute
+   */
+  @Override
+  public CellPathResolver getCellPathResolver() {
+    return cellPathResolver;
+  }
+
+  /**
+   * @return The value of the {@code buildRuleResolver} attribute
+   */
+  @Override
+  public BuildRuleResolver getBuildRuleResolver() {
+    return buildRuleResolver;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code classExpanders} attribute
+   */
+  @Override
+  public ImmutableMap<Class<? extends Macro>, AbstractMacroExpanderWithoutPrecomputedWork<? extends Macro>> getClassExpanders() {
+    return classExpanders;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractStringWithMacrosArg#getStringWithMacros() stringWithMacros} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for stringWithMacros
+   * @return A modified copy of the {@code this} object
+   */
+  public final StringWithMacrosArg withStringWithMacros(StringWithMacros value) {
+    if (this.stringWithMacros == value) return this;
+    StringWithMacros newValue = Objects.requireNonNull(value, "stringWithMacros");
+    return new StringWithMacrosArg(this, newValue, this.expanders, this.buildTarget, this.cellPathResolver, this.buildRuleResolver);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractStringWithMacrosArg#getExpanders() expanders}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  @SafeVarargs @SuppressWarnings("varargs")
+  public final StringWithMacrosArg withExpanders(AbstractMacroExpanderWithoutPrecomputedWork<? extends Macro>... elements) {
+    ImmutableList<AbstractMacroExpanderWithoutPrecomputedWork<? extends Macro>> newValue = ImmutableList.copyOf(elements);
+    return new StringWithMacrosArg(
+        this,
+        this.stringWithMacros,
+        newValue,
+        this.buildTarget,
+        this.cellPathResolver,
+        this.buildRuleResolver);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractStringWithMacrosArg#getExpanders() expanders}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of expanders elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final StringWithMacrosArg withExpanders(Iterable<? extends AbstractMacroExpanderWithoutPrecomputedWork<? extends Macro>> elements) {
+    if (this.expanders == elements) return this;
+    ImmutableList<AbstractMacroExpanderWithoutPrecomputedWork<? extends Macro>> newValue = ImmutableList.copyOf(elements);
+    return new StringWithMacrosArg(
+        this,
+        this.stringWithMacros,
+        newValue,
+        this.buildTarget,
+        this.cellPathResolver,
+        this.buildRuleResolver);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractStringWithMacrosArg#getBuildTarget() buildTarget} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildTarget
+   * @return A modified copy of the {@code this} object
+   */
+  public final StringWithMacrosArg withBuildTarget(BuildTarget value) {
+    if (this.buildTarget == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "buildTarget");
+    return new StringWithMacrosArg(
+        this,
+        this.stringWithMacros,
+        this.expanders,
+        newValue,
+        this.cellPathResolver,
+        this.buildRuleResolver);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractStringWithMacrosArg#getCellPathResolver() cellPathResolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cellPathResolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final StringWithMacrosArg withCellPathResolver(CellPathResolver value) {
+    if (this.cellPathResolver == value) return this;
+    CellPathResolver newValue = Objects.requireNonNull(value, "cellPathResolver");
+    return new StringWithMacrosArg(this, this.stringWithMacros, this.expanders, this.buildTarget, newValue, this.buildRuleResolver);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractStringWithMacrosArg#getBuildRuleResolver() buildRuleResolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildRuleResolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final StringWithMacrosArg withBuildRuleResolver(BuildRuleResolver value) {
+    if (this.buildRuleResolver == value) return this;
+    BuildRuleResolver newValue = Objects.requireNonNull(value, "buildRuleResolver");
+    return new StringWithMacrosArg(this, this.stringWithMacros, this.expanders, this.buildTarget, this.cellPathResolver, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code StringWithMacrosArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof StringWithMacrosArg
+        && equalTo((StringWithMacrosArg) another);
+  }
+
+  private boolean equalTo(StringWithMacrosArg another) {
+    return stringWithMacros.equals(another.stringWithMacros)
+        && expanders.equals(another.expanders)
+        && buildTarget.equals(another.buildTarget)
+        && cellPathResolver.equals(another.cellPathResolver)
+        && buildRuleResolver.equals(another.buildRuleResolver)
+        && classExpanders.equals(another.classExpanders);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code stringWithMacros}, {@code expanders}, {@code buildTarget}, {@code cellPathResolver}, {@code buildRuleResolver}, {@code classExpanders}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + stringWithMacros.hashCode();
+    h += (h << 5) + expanders.hashCode();
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + cellPathResolver.hashCode();
+    h += (h << 5) + buildRuleResolver.hashCode();
+    h += (h << 5) + classExpanders.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StringWithMacrosArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StringWithMacrosArg")
+        .omitNullValues()
+        .add("stringWithMacros", stringWithMacros)
+        .add("expanders", expanders)
+        .add("buildTarget", buildTarget)
+        .add("cellPathResolver", cellPathResolver)
+        .add("buildRuleResolver", buildRuleResolver)
+        .add("classExpanders", classExpanders)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code StringWithMacrosArg} instance.
+   * @param stringWithMacros The value for the {@code stringWithMacros} attribute
+   * @param expanders The value for the {@code expanders} attribute
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param cellPathResolver The value for the {@code cellPathResolver} attribute
+   * @param buildRuleResolver The value for the {@code buildRuleResolver} attribute
+   * @return An immutable StringWithMacrosArg instance
+   */
+  public static StringWithMacrosArg of(StringWithMacros stringWithMacros, ImmutableList<AbstractMacroExpanderWithoutPrecomputedWork<? extends Macro>> expanders, BuildTarget buildTarget, CellPathResolver cellPathResolver, BuildRuleResolver buildRuleResolver) {
+    return of(stringWithMacros, (Iterable<? extends AbstractMacroExpanderWithoutPrecomputedWork<? extends Macro>>) expanders, buildTarget, cellPathResolver, buildRuleResolver);
+  }
+
+  /**
+   * Construct a new immutable {@code StringWithMacrosArg} instance.
+   * @param stringWithMacros The value for the {@code stringWithMacros} attribute
+   * @param expanders The value for the {@code expanders} attribute
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param cellPathResolver The value for the {@code cellPathResolver} attribute
+   * @param buildRuleResolver The value for the {@code buildRuleResolver} attribute
+   * @return An immutable StringWithMacrosArg instance
+   */
+  public static StringWithMacrosArg of(StringWithMacros stringWithMacros, Iterable<? extends AbstractMacroExpanderWithoutPrecomputedWork<? extends Macro>> expanders, BuildTarget buildTarget, CellPathResolver cellPathResolver, BuildRuleResolver buildRuleResolver) {
+    return new StringWithMacrosArg(stringWithMacros, expanders, buildTarget, cellPathResolver, buildRuleResolver);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractStringWithMacrosArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable StringWithMacrosArg instance
+   */
+  static StringWithMacrosArg copyOf(AbstractStringWithMacrosArg instance) {
+    if (instance instanceof StringWithMacrosArg) {
+      return (StringWithMacrosArg) instance;
+    }
+    return StringWithMacrosArg.of(instance.getStringWithMacros(), instance.getExpanders(), instance.getBuildTarget(), instance.getCellPathResolver(), instance.getBuildRuleResolver());
+  }
+}
@@ -0,0 +1,333 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.apple.xcode.xcodeproj.SourceTreePath;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Frameworks can be specified as either a path to a file, or a path prefixed by a build setting.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractFrameworkPath"})
+@Immutable
+public final class FrameworkPath extends AbstractFrameworkPath {
+  private final AbstractFrameworkPath.Type type;
+  private final @Nullable SourceTreePath sourceTreePath;
+  private final @Nullable SourcePath sourcePath;
+
+  private FrameworkPath(
+      AbstractFrameworkPath.Type type,
+      Optional<? extends SourceTreePath> sourceTreePath,
+      Optional<? extends SourcePath> sourcePath) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.sourceTreePath = sourceTreePath.orElse(null);
+    this.sourcePath = sourcePath.orElse(null);
+  }
+
+  private FrameworkPath(
+      FrameworkPath original,
+      AbstractFrameworkPath.Type type,
+      @Nullable SourceTreePath sourceTreePath,
+      @Nullable SourcePath sourcePath) {
+    this.type = type;
+    this.sourceTreePath = sourceTreePath;
+    this.sourcePath = sourcePath;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public AbstractFrameworkPath.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code sourceTreePath} attribute
+   */
+  @Override
+  public Optional<SourceTreePath> getSourceTreePath() {
+    return Optional.ofNullable(sourceTreePath);
+  }
+
+  /**
+   * @return The value of the {@code sourcePath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSourcePath() {
+    return Optional.ofNullable(sourcePath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFrameworkPath#getType() type} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final FrameworkPath withType(AbstractFrameworkPath.Type value) {
+    if (this.type == value) return this;
+    AbstractFrameworkPath.Type newValue = Objects.requireNonNull(value, "type");
+    return validate(new FrameworkPath(this, newValue, this.sourceTreePath, this.sourcePath));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractFrameworkPath#getSourceTreePath() sourceTreePath} attribute.
+   * @param value The value for sourceTreePath
+   * @return A modified copy of {@code this} object
+   */
+  public final FrameworkPath withSourceTreePath(SourceTreePath value) {
+    @Nullable SourceTreePath newValue = Objects.requireNonNull(value, "sourceTreePath");
+    if (this.sourceTreePath == newValue) return this;
+    return validate(new FrameworkPath(this, this.type, newValue, this.sourcePath));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractFrameworkPath#getSourceTreePath() sourceTreePath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sourceTreePath
+   * @return A modified copy of {@code this} object
+   */
+  public final FrameworkPath withSourceTreePath(Optional<? extends SourceTreePath> optional) {
+    @Nullable SourceTreePath value = optional.orElse(null);
+    if (this.sourceTreePath == value) return this;
+    return validate(new FrameworkPath(this, this.type, value, this.sourcePath));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractFrameworkPath#getSourcePath() sourcePath} attribute.
+   * @param value The value for sourcePath
+   * @return A modified copy of {@code this} object
+   */
+  public final FrameworkPath withSourcePath(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "sourcePath");
+    if (this.sourcePath == newValue) return this;
+    return validate(new FrameworkPath(this, this.type, this.sourceTreePath, newValue));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractFrameworkPath#getSourcePath() sourcePath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sourcePath
+   * @return A modified copy of {@code this} object
+   */
+  public final FrameworkPath withSourcePath(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.sourcePath == value) return this;
+    return validate(new FrameworkPath(this, this.type, this.sourceTreePath, value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code FrameworkPath} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof FrameworkPath
+        && equalTo((FrameworkPath) another);
+  }
+
+  private boolean equalTo(FrameworkPath another) {
+    return type.equals(another.type)
+        && Objects.equals(sourceTreePath, another.sourceTreePath)
+        && Objects.equals(sourcePath, another.sourcePath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code sourceTreePath}, {@code sourcePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + Objects.hashCode(sourceTreePath);
+    h += (h << 5) + Objects.hashCode(sourcePath);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FrameworkPath} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FrameworkPath")
+        .omitNullValues()
+        .add("type", type)
+        .add("sourceTreePath", sourceTreePath)
+        .add("sourcePath", sourcePath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FrameworkPath} instance.
+   * @param type The value for the {@code type} attribute
+   * @param sourceTreePath The value for the {@code sourceTreePath} attribute
+   * @param sourcePath The value for the {@code sourcePath} attribute
+   * @return An immutable FrameworkPath instance
+   */
+  public static FrameworkPath of(AbstractFrameworkPath.Type type, Optional<? extends SourceTreePath> sourceTreePath, Optional<? extends SourcePath> sourcePath) {
+    return validate(new FrameworkPath(type, sourceTreePath, sourcePath));
+  }
+
+
+  private static FrameworkPath validate(FrameworkPath instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractFrameworkPath} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable FrameworkPath instance
+   */
+  static FrameworkPath copyOf(AbstractFrameworkPath instance) {
+    if (instance instanceof FrameworkPath) {
+      return (FrameworkPath) instance;
+    }
+    return FrameworkPath.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link FrameworkPath FrameworkPath}.
+   * @return A new FrameworkPath builder
+   */
+  public static FrameworkPath.Builder builder() {
+    return new FrameworkPath.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link FrameworkPath FrameworkPath}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TYPE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable AbstractFrameworkPath.Type type;
+    private @Nullable SourceTreePath sourceTreePath;
+    private @Nullable SourcePath sourcePath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code FrameworkPath} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(FrameworkPath instance) {
+      return from((AbstractFrameworkPath) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractFrameworkPath} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractFrameworkPath instance) {
+      Objects.requireNonNull(instance, "instance");
+      setType(instance.getType());
+      Optional<SourceTreePath> sourceTreePathOptional = instance.getSourceTreePath();
+      if (sourceTreePathOptional.isPresent()) {
+        setSourceTreePath(sourceTreePathOptional);
+      }
+      Optional<SourcePath> sourcePathOptional = instance.getSourcePath();
+      if (sourcePathOptional.isPresent()) {
+        setSourcePath(sourcePathOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractFrameworkPath#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setType(AbstractFrameworkPath.Type type) {
+      this.type = Objects.requireNonNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractFrameworkPath#getSourceTreePath() sourceTreePath} to sourceTreePath.
+     * @param sourceTreePath The value for sourceTreePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceTreePath(SourceTreePath sourceTreePath) {
+      this.sourceTreePath = Objects.requireNonNull(sourceTreePath, "sourceTreePath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFrameworkPath#getSourceTreePath() sourceTreePath} to sourceTreePath.
+     * @param sourceTreePath The value for sourceTreePath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourceTreePath(Optional<? extends SourceTreePath> sourceTreePath) {
+      this.sourceTreePath = sourceTreePath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFrameworkPath#getSourcePath() sourcePath} to sourcePath.
+     * @param sourcePath The value for sourcePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourcePath(SourcePath sourcePath) {
+      this.sourcePath = Objects.requireNonNull(sourcePath, "sourcePath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFrameworkPath#getSourcePath() sourcePath} to sourcePath.
+     * @param sourcePath The value for sourcePath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourcePath(Optional<? extends SourcePath> sourcePath) {
+      this.sourcePath = sourcePath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link FrameworkPath FrameworkPath}.
+     * @return An immutable instance of FrameworkPath
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public FrameworkPath build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return FrameworkPath.validate(new FrameworkPath(null, type, sourceTreePath, sourcePath));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      return "Cannot build FrameworkPath, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,711 @@
+package com.facebook.buck.rules.coercer;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Manifest entries to be injected into the AndroidManifest.xml file via AAPT command line flags.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractManifestEntries"})
+@Immutable
+public final class ManifestEntries extends AbstractManifestEntries {
+  private final @Nullable Integer minSdkVersion;
+  private final @Nullable Integer targetSdkVersion;
+  private final @Nullable Integer versionCode;
+  private final @Nullable String versionName;
+  private final @Nullable Boolean debugMode;
+  private final @Nullable ImmutableMap<String, String> placeholders;
+
+  private ManifestEntries(
+      Optional<Integer> minSdkVersion,
+      Optional<Integer> targetSdkVersion,
+      Optional<Integer> versionCode,
+      Optional<String> versionName,
+      Optional<Boolean> debugMode,
+      Optional<? extends ImmutableMap<String, String>> placeholders) {
+    this.minSdkVersion = minSdkVersion.orElse(null);
+    this.targetSdkVersion = targetSdkVersion.orElse(null);
+    this.versionCode = versionCode.orElse(null);
+    this.versionName = versionName.orElse(null);
+    this.debugMode = debugMode.orElse(null);
+    this.placeholders = placeholders.orElse(null);
+  }
+
+  private ManifestEntries(
+      ManifestEntries original,
+      @Nullable Integer minSdkVersion,
+      @Nullable Integer targetSdkVersion,
+      @Nullable Integer versionCode,
+      @Nullable String versionName,
+      @Nullable Boolean debugMode,
+      @Nullable ImmutableMap<String, String> placeholders) {
+    this.minSdkVersion = minSdkVersion;
+    this.targetSdkVersion = targetSdkVersion;
+    this.versionCode = versionCode;
+    this.versionName = versionName;
+    this.debugMode = debugMode;
+    this.placeholders = placeholders;
+  }
+
+  /**
+   * @return The value of the {@code minSdkVersion} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<Integer> getMinSdkVersion() {
+    return Optional.ofNullable(minSdkVersion);
+  }
+
+  /**
+   * @return The value of the {@code targetSdkVersion} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<Integer> getTargetSdkVersion() {
+    return Optional.ofNullable(targetSdkVersion);
+  }
+
+  /**
+   * @return The value of the {@code versionCode} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<Integer> getVersionCode() {
+    return Optional.ofNullable(versionCode);
+  }
+
+  /**
+   * @return The value of the {@code versionName} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> getVersionName() {
+    return Optional.ofNullable(versionName);
+  }
+
+  /**
+   * @return The value of the {@code debugMode} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<Boolean> getDebugMode() {
+    return Optional.ofNullable(debugMode);
+  }
+
+  /**
+   * @return The value of the {@code placeholders} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<ImmutableMap<String, String>> getPlaceholders() {
+    return Optional.ofNullable(placeholders);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractManifestEntries#getMinSdkVersion() minSdkVersion} attribute.
+   * @param value The value for minSdkVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final ManifestEntries withMinSdkVersion(int value) {
+    @Nullable Integer newValue = value;
+    if (Objects.equals(this.minSdkVersion, newValue)) return this;
+    return new ManifestEntries(
+        this,
+        newValue,
+        this.targetSdkVersion,
+        this.versionCode,
+        this.versionName,
+        this.debugMode,
+        this.placeholders);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractManifestEntries#getMinSdkVersion() minSdkVersion} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for minSdkVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final ManifestEntries withMinSdkVersion(Optional<Integer> optional) {
+    @Nullable Integer value = optional.orElse(null);
+    if (Objects.equals(this.minSdkVersion, value)) return this;
+    return new ManifestEntries(
+        this,
+        value,
+        this.targetSdkVersion,
+        this.versionCode,
+        this.versionName,
+        this.debugMode,
+        this.placeholders);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractManifestEntries#getTargetSdkVersion() targetSdkVersion} attribute.
+   * @param value The value for targetSdkVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final ManifestEntries withTargetSdkVersion(int value) {
+    @Nullable Integer newValue = value;
+    if (Objects.equals(this.targetSdkVersion, newValue)) return this;
+    return new ManifestEntries(
+        this,
+        this.minSdkVersion,
+        newValue,
+        this.versionCode,
+        this.versionName,
+        this.debugMode,
+        this.placeholders);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractManifestEntries#getTargetSdkVersion() targetSdkVersion} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for targetSdkVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final ManifestEntries withTargetSdkVersion(Optional<Integer> optional) {
+    @Nullable Integer value = optional.orElse(null);
+    if (Objects.equals(this.targetSdkVersion, value)) return this;
+    return new ManifestEntries(
+        this,
+        this.minSdkVersion,
+        value,
+        this.versionCode,
+        this.versionName,
+        this.debugMode,
+        this.placeholders);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractManifestEntries#getVersionCode() versionCode} attribute.
+   * @param value The value for versionCode
+   * @return A modified copy of {@code this} object
+   */
+  public final ManifestEntries withVersionCode(int value) {
+    @Nullable Integer newValue = value;
+    if (Objects.equals(this.versionCode, newValue)) return this;
+    return new ManifestEntries(
+        this,
+        this.minSdkVersion,
+        this.targetSdkVersion,
+        newValue,
+        this.versionName,
+        this.debugMode,
+        this.placeholders);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractManifestEntries#getVersionCode() versionCode} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for versionCode
+   * @return A modified copy of {@code this} object
+   */
+  public final ManifestEntries withVersionCode(Optional<Integer> optional) {
+    @Nullable Integer value = optional.orElse(null);
+    if (Objects.equals(this.versionCode, value)) return this;
+    return new ManifestEntries(
+        this,
+        this.minSdkVersion,
+        this.targetSdkVersion,
+        value,
+        this.versionName,
+        this.debugMode,
+        this.placeholders);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractManifestEntries#getVersionName() versionName} attribute.
+   * @param value The value for versionName
+   * @return A modified copy of {@code this} object
+   */
+  public final ManifestEntries withVersionName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "versionName");
+    if (Objects.equals(this.versionName, newValue)) return this;
+    return new ManifestEntries(
+        this,
+        this.minSdkVersion,
+        this.targetSdkVersion,
+        this.versionCode,
+        newValue,
+        this.debugMode,
+        this.placeholders);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractManifestEntries#getVersionName() versionName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for versionName
+   * @return A modified copy of {@code this} object
+   */
+  public final ManifestEntries withVersionName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.versionName, value)) return this;
+    return new ManifestEntries(
+        this,
+        this.minSdkVersion,
+        this.targetSdkVersion,
+        this.versionCode,
+        value,
+        this.debugMode,
+        this.placeholders);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractManifestEntries#getDebugMode() debugMode} attribute.
+   * @param value The value for debugMode
+   * @return A modified copy of {@code this} object
+   */
+  public final ManifestEntries withDebugMode(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.debugMode, newValue)) return this;
+    return new ManifestEntries(
+        this,
+        this.minSdkVersion,
+        this.targetSdkVersion,
+        this.versionCode,
+        this.versionName,
+        newValue,
+        this.placeholders);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractManifestEntries#getDebugMode() debugMode} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for debugMode
+   * @return A modified copy of {@code this} object
+   */
+  public final ManifestEntries withDebugMode(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.debugMode, value)) return this;
+    return new ManifestEntries(
+        this,
+        this.minSdkVersion,
+        this.targetSdkVersion,
+        this.versionCode,
+        this.versionName,
+        value,
+        this.placeholders);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractManifestEntries#getPlaceholders() placeholders} attribute.
+   * @param value The value for placeholders
+   * @return A modified copy of {@code this} object
+   */
+  public final ManifestEntries withPlaceholders(ImmutableMap<String, String> value) {
+    @Nullable ImmutableMap<String, String> newValue = Objects.requireNonNull(value, "placeholders");
+    if (this.placeholders == newValue) return this;
+    return new ManifestEntries(
+        this,
+        this.minSdkVersion,
+        this.targetSdkVersion,
+        this.versionCode,
+        this.versionName,
+        this.debugMode,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractManifestEntries#getPlaceholders() placeholders} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for placeholders
+   * @return A modified copy of {@code this} object
+   */
+  public final ManifestEntries withPlaceholders(Optional<? extends ImmutableMap<String, String>> optional) {
+    @Nullable ImmutableMap<String, String> value = optional.orElse(null);
+    if (this.placeholders == value) return this;
+    return new ManifestEntries(
+        this,
+        this.minSdkVersion,
+        this.targetSdkVersion,
+        this.versionCode,
+        this.versionName,
+        this.debugMode,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ManifestEntries} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ManifestEntries
+        && equalTo((ManifestEntries) another);
+  }
+
+  private boolean equalTo(ManifestEntries another) {
+    return Objects.equals(minSdkVersion, another.minSdkVersion)
+        && Objects.equals(targetSdkVersion, another.targetSdkVersion)
+        && Objects.equals(versionCode, another.versionCode)
+        && Objects.equals(versionName, another.versionName)
+        && Objects.equals(debugMode, another.debugMode)
+        && Objects.equals(placeholders, another.placeholders);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code minSdkVersion}, {@code targetSdkVersion}, {@code versionCode}, {@code versionName}, {@code debugMode}, {@code placeholders}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(minSdkVersion);
+    h += (h << 5) + Objects.hashCode(targetSdkVersion);
+    h += (h << 5) + Objects.hashCode(versionCode);
+    h += (h << 5) + Objects.hashCode(versionName);
+    h += (h << 5) + Objects.hashCode(debugMode);
+    h += (h << 5) + Objects.hashCode(placeholders);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ManifestEntries} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ManifestEntries")
+        .omitNullValues()
+        .add("minSdkVersion", minSdkVersion)
+        .add("targetSdkVersion", targetSdkVersion)
+        .add("versionCode", versionCode)
+        .add("versionName", versionName)
+        .add("debugMode", debugMode)
+        .add("placeholders", placeholders)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractManifestEntries {
+    @Nullable Optional<Integer> minSdkVersion = Optional.empty();
+    @Nullable Optional<Integer> targetSdkVersion = Optional.empty();
+    @Nullable Optional<Integer> versionCode = Optional.empty();
+    @Nullable Optional<String> versionName = Optional.empty();
+    @Nullable Optional<Boolean> debugMode = Optional.empty();
+    @Nullable Optional<ImmutableMap<String, String>> placeholders = Optional.empty();
+    @JsonProperty
+    public void setMinSdkVersion(Optional<Integer> minSdkVersion) {
+      this.minSdkVersion = minSdkVersion;
+    }
+    @JsonProperty
+    public void setTargetSdkVersion(Optional<Integer> targetSdkVersion) {
+      this.targetSdkVersion = targetSdkVersion;
+    }
+    @JsonProperty
+    public void setVersionCode(Optional<Integer> versionCode) {
+      this.versionCode = versionCode;
+    }
+    @JsonProperty
+    public void setVersionName(Optional<String> versionName) {
+      this.versionName = versionName;
+    }
+    @JsonProperty
+    public void setDebugMode(Optional<Boolean> debugMode) {
+      this.debugMode = debugMode;
+    }
+    @JsonProperty
+    public void setPlaceholders(Optional<ImmutableMap<String, String>> placeholders) {
+      this.placeholders = placeholders;
+    }
+    @Override
+    public Optional<Integer> getMinSdkVersion() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<Integer> getTargetSdkVersion() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<Integer> getVersionCode() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getVersionName() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<Boolean> getDebugMode() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<ImmutableMap<String, String>> getPlaceholders() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ManifestEntries fromJson(Json json) {
+    ManifestEntries.Builder builder = ManifestEntries.builder();
+    if (json.minSdkVersion != null) {
+      builder.setMinSdkVersion(json.minSdkVersion);
+    }
+    if (json.targetSdkVersion != null) {
+      builder.setTargetSdkVersion(json.targetSdkVersion);
+    }
+    if (json.versionCode != null) {
+      builder.setVersionCode(json.versionCode);
+    }
+    if (json.versionName != null) {
+      builder.setVersionName(json.versionName);
+    }
+    if (json.debugMode != null) {
+      builder.setDebugMode(json.debugMode);
+    }
+    if (json.placeholders != null) {
+      builder.setPlaceholders(json.placeholders);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Construct a new immutable {@code ManifestEntries} instance.
+   * @param minSdkVersion The value for the {@code minSdkVersion} attribute
+   * @param targetSdkVersion The value for the {@code targetSdkVersion} attribute
+   * @param versionCode The value for the {@code versionCode} attribute
+   * @param versionName The value for the {@code versionName} attribute
+   * @param debugMode The value for the {@code debugMode} attribute
+   * @param placeholders The value for the {@code placeholders} attribute
+   * @return An immutable ManifestEntries instance
+   */
+  public static ManifestEntries of(Optional<Integer> minSdkVersion, Optional<Integer> targetSdkVersion, Optional<Integer> versionCode, Optional<String> versionName, Optional<Boolean> debugMode, Optional<? extends ImmutableMap<String, String>> placeholders) {
+    return new ManifestEntries(minSdkVersion, targetSdkVersion, versionCode, versionName, debugMode, placeholders);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractManifestEntries} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ManifestEntries instance
+   */
+  static ManifestEntries copyOf(AbstractManifestEntries instance) {
+    if (instance instanceof ManifestEntries) {
+      return (ManifestEntries) instance;
+    }
+    return ManifestEntries.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ManifestEntries ManifestEntries}.
+   * @return A new ManifestEntries builder
+   */
+  public static ManifestEntries.Builder builder() {
+    return new ManifestEntries.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ManifestEntries ManifestEntries}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable Integer minSdkVersion;
+    private @Nullable Integer targetSdkVersion;
+    private @Nullable Integer versionCode;
+    private @Nullable String versionName;
+    private @Nullable Boolean debugMode;
+    private @Nullable ImmutableMap<String, String> placeholders;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ManifestEntries} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ManifestEntries instance) {
+      return from((AbstractManifestEntries) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractManifestEntries} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractManifestEntries instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<Integer> minSdkVersionOptional = instance.getMinSdkVersion();
+      if (minSdkVersionOptional.isPresent()) {
+        setMinSdkVersion(minSdkVersionOptional);
+      }
+      Optional<Integer> targetSdkVersionOptional = instance.getTargetSdkVersion();
+      if (targetSdkVersionOptional.isPresent()) {
+        setTargetSdkVersion(targetSdkVersionOptional);
+      }
+      Optional<Integer> versionCodeOptional = instance.getVersionCode();
+      if (versionCodeOptional.isPresent()) {
+        setVersionCode(versionCodeOptional);
+      }
+      Optional<String> versionNameOptional = instance.getVersionName();
+      if (versionNameOptional.isPresent()) {
+        setVersionName(versionNameOptional);
+      }
+      Optional<Boolean> debugModeOptional = instance.getDebugMode();
+      if (debugModeOptional.isPresent()) {
+        setDebugMode(debugModeOptional);
+      }
+      Optional<ImmutableMap<String, String>> placeholdersOptional = instance.getPlaceholders();
+      if (placeholdersOptional.isPresent()) {
+        setPlaceholders(placeholdersOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getMinSdkVersion() minSdkVersion} to minSdkVersion.
+     * @param minSdkVersion The value for minSdkVersion
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMinSdkVersion(int minSdkVersion) {
+      this.minSdkVersion = minSdkVersion;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getMinSdkVersion() minSdkVersion} to minSdkVersion.
+     * @param minSdkVersion The value for minSdkVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setMinSdkVersion(Optional<Integer> minSdkVersion) {
+      this.minSdkVersion = minSdkVersion.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getTargetSdkVersion() targetSdkVersion} to targetSdkVersion.
+     * @param targetSdkVersion The value for targetSdkVersion
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTargetSdkVersion(int targetSdkVersion) {
+      this.targetSdkVersion = targetSdkVersion;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getTargetSdkVersion() targetSdkVersion} to targetSdkVersion.
+     * @param targetSdkVersion The value for targetSdkVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setTargetSdkVersion(Optional<Integer> targetSdkVersion) {
+      this.targetSdkVersion = targetSdkVersion.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getVersionCode() versionCode} to versionCode.
+     * @param versionCode The value for versionCode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionCode(int versionCode) {
+      this.versionCode = versionCode;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getVersionCode() versionCode} to versionCode.
+     * @param versionCode The value for versionCode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setVersionCode(Optional<Integer> versionCode) {
+      this.versionCode = versionCode.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getVersionName() versionName} to versionName.
+     * @param versionName The value for versionName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionName(String versionName) {
+      this.versionName = Objects.requireNonNull(versionName, "versionName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getVersionName() versionName} to versionName.
+     * @param versionName The value for versionName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setVersionName(Optional<String> versionName) {
+      this.versionName = versionName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getDebugMode() debugMode} to debugMode.
+     * @param debugMode The value for debugMode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDebugMode(boolean debugMode) {
+      this.debugMode = debugMode;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getDebugMode() debugMode} to debugMode.
+     * @param debugMode The value for debugMode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setDebugMode(Optional<Boolean> debugMode) {
+      this.debugMode = debugMode.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getPlaceholders() placeholders} to placeholders.
+     * @param placeholders The value for placeholders
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPlaceholders(ImmutableMap<String, String> placeholders) {
+      this.placeholders = Objects.requireNonNull(placeholders, "placeholders");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getPlaceholders() placeholders} to placeholders.
+     * @param placeholders The value for placeholders
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setPlaceholders(Optional<? extends ImmutableMap<String, String>> placeholders) {
+      this.placeholders = placeholders.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ManifestEntries ManifestEntries}.
+     * @return An immutable instance of ManifestEntries
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ManifestEntries build() {
+      return new ManifestEntries(null, minSdkVersion, targetSdkVersion, versionCode, versionName, debugMode, placeholders);
+    }
+  }
+}
@@ -0,0 +1,235 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Describes a OCaml source and the various paths it uses from input to output. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractOcamlSource"})
+@Immutable
+public final class OcamlSource extends AbstractOcamlSource {
+  private final String name;
+  private final SourcePath source;
+
+  private OcamlSource(String name, SourcePath source) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.source = Objects.requireNonNull(source, "source");
+  }
+
+  private OcamlSource(OcamlSource original, String name, SourcePath source) {
+    this.name = name;
+    this.source = source;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code source} attribute
+   */
+  @Override
+  public SourcePath getSource() {
+    return source;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractOcamlSource#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlSource withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new OcamlSource(this, newValue, this.source);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractOcamlSource#getSource() source} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for source
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlSource withSource(SourcePath value) {
+    if (this.source == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "source");
+    return new OcamlSource(this, this.name, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code OcamlSource} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof OcamlSource
+        && equalTo((OcamlSource) another);
+  }
+
+  private boolean equalTo(OcamlSource another) {
+    return name.equals(another.name)
+        && source.equals(another.source);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code source}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + source.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code OcamlSource} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OcamlSource")
+        .omitNullValues()
+        .add("name", name)
+        .add("source", source)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code OcamlSource} instance.
+   * @param name The value for the {@code name} attribute
+   * @param source The value for the {@code source} attribute
+   * @return An immutable OcamlSource instance
+   */
+  public static OcamlSource of(String name, SourcePath source) {
+    return new OcamlSource(name, source);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractOcamlSource} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable OcamlSource instance
+   */
+  static OcamlSource copyOf(AbstractOcamlSource instance) {
+    if (instance instanceof OcamlSource) {
+      return (OcamlSource) instance;
+    }
+    return OcamlSource.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link OcamlSource OcamlSource}.
+   * @return A new OcamlSource builder
+   */
+  public static OcamlSource.Builder builder() {
+    return new OcamlSource.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link OcamlSource OcamlSource}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long INIT_BIT_SOURCE = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String name;
+    private @Nullable SourcePath source;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code OcamlSource} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(OcamlSource instance) {
+      return from((AbstractOcamlSource) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractOcamlSource} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractOcamlSource instance) {
+      Objects.requireNonNull(instance, "instance");
+      setName(instance.getName());
+      setSource(instance.getSource());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractOcamlSource#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractOcamlSource#getSource() source} attribute.
+     * @param source The value for source 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSource(SourcePath source) {
+      this.source = Objects.requireNonNull(source, "source");
+      initBits &= ~INIT_BIT_SOURCE;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link OcamlSource OcamlSource}.
+     * @return An immutable instance of OcamlSource
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public OcamlSource build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new OcamlSource(null, name, source);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      if ((initBits & INIT_BIT_SOURCE) != 0) attributes.add("source");
+      return "Cannot build OcamlSource, some of required attributes are not set " + attributes;
+    }
+  }
+}
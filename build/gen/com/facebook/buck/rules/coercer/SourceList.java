@@ -0,0 +1,339 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractSourceList}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code SourceList.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code SourceList.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSourceList"})
+@Immutable
+public final class SourceList extends AbstractSourceList {
+  private final AbstractSourceList.Type type;
+  private final @Nullable ImmutableSortedSet<SourcePath> unnamedSources;
+  private final @Nullable ImmutableSortedMap<String, SourcePath> namedSources;
+
+  private SourceList(
+      AbstractSourceList.Type type,
+      Optional<? extends ImmutableSortedSet<SourcePath>> unnamedSources,
+      Optional<? extends ImmutableSortedMap<String, SourcePath>> namedSources) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.unnamedSources = unnamedSources.orElse(null);
+    this.namedSources = namedSources.orElse(null);
+  }
+
+  private SourceList(
+      SourceList original,
+      AbstractSourceList.Type type,
+      @Nullable ImmutableSortedSet<SourcePath> unnamedSources,
+      @Nullable ImmutableSortedMap<String, SourcePath> namedSources) {
+    this.type = type;
+    this.unnamedSources = unnamedSources;
+    this.namedSources = namedSources;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public AbstractSourceList.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code unnamedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedSet<SourcePath>> getUnnamedSources() {
+    return Optional.ofNullable(unnamedSources);
+  }
+
+  /**
+   * @return The value of the {@code namedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedMap<String, SourcePath>> getNamedSources() {
+    return Optional.ofNullable(namedSources);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSourceList#getType() type} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final SourceList withType(AbstractSourceList.Type value) {
+    if (this.type == value) return this;
+    AbstractSourceList.Type newValue = Objects.requireNonNull(value, "type");
+    return validate(new SourceList(this, newValue, this.unnamedSources, this.namedSources));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractSourceList#getUnnamedSources() unnamedSources} attribute.
+   * @param value The value for unnamedSources
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceList withUnnamedSources(ImmutableSortedSet<SourcePath> value) {
+    @Nullable ImmutableSortedSet<SourcePath> newValue = Objects.requireNonNull(value, "unnamedSources");
+    if (this.unnamedSources == newValue) return this;
+    return validate(new SourceList(this, this.type, newValue, this.namedSources));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractSourceList#getUnnamedSources() unnamedSources} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for unnamedSources
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceList withUnnamedSources(Optional<? extends ImmutableSortedSet<SourcePath>> optional) {
+    @Nullable ImmutableSortedSet<SourcePath> value = optional.orElse(null);
+    if (this.unnamedSources == value) return this;
+    return validate(new SourceList(this, this.type, value, this.namedSources));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractSourceList#getNamedSources() namedSources} attribute.
+   * @param value The value for namedSources
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceList withNamedSources(ImmutableSortedMap<String, SourcePath> value) {
+    @Nullable ImmutableSortedMap<String, SourcePath> newValue = Objects.requireNonNull(value, "namedSources");
+    if (this.namedSources == newValue) return this;
+    return validate(new SourceList(this, this.type, this.unnamedSources, newValue));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractSourceList#getNamedSources() namedSources} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for namedSources
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceList withNamedSources(Optional<? extends ImmutableSortedMap<String, SourcePath>> optional) {
+    @Nullable ImmutableSortedMap<String, SourcePath> value = optional.orElse(null);
+    if (this.namedSources == value) return this;
+    return validate(new SourceList(this, this.type, this.unnamedSources, value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SourceList} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SourceList
+        && equalTo((SourceList) another);
+  }
+
+  private boolean equalTo(SourceList another) {
+    return type.equals(another.type)
+        && Objects.equals(unnamedSources, another.unnamedSources)
+        && Objects.equals(namedSources, another.namedSources);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code unnamedSources}, {@code namedSources}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + Objects.hashCode(unnamedSources);
+    h += (h << 5) + Objects.hashCode(namedSources);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SourceList} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourceList")
+        .omitNullValues()
+        .add("type", type)
+        .add("unnamedSources", unnamedSources)
+        .add("namedSources", namedSources)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SourceList} instance.
+   * @param type The value for the {@code type} attribute
+   * @param unnamedSources The value for the {@code unnamedSources} attribute
+   * @param namedSources The value for the {@code namedSources} attribute
+   * @return An immutable SourceList instance
+   */
+  public static SourceList of(AbstractSourceList.Type type, Optional<? extends ImmutableSortedSet<SourcePath>> unnamedSources, Optional<? extends ImmutableSortedMap<String, SourcePath>> namedSources) {
+    return validate(new SourceList(type, unnamedSources, namedSources));
+  }
+
+
+  private static SourceList validate(SourceList instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractSourceList} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable SourceList instance
+   */
+  static SourceList copyOf(AbstractSourceList instance) {
+    if (instance instanceof SourceList) {
+      return (SourceList) instance;
+    }
+    return SourceList.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link SourceList SourceList}.
+   * @return A new SourceList builder
+   */
+  public static SourceList.Builder builder() {
+    return new SourceList.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link SourceList SourceList}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TYPE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable AbstractSourceList.Type type;
+    private @Nullable ImmutableSortedSet<SourcePath> unnamedSources;
+    private @Nullable ImmutableSortedMap<String, SourcePath> namedSources;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SourceList} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(SourceList instance) {
+      return from((AbstractSourceList) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractSourceList} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractSourceList instance) {
+      Objects.requireNonNull(instance, "instance");
+      setType(instance.getType());
+      Optional<ImmutableSortedSet<SourcePath>> unnamedSourcesOptional = instance.getUnnamedSources();
+      if (unnamedSourcesOptional.isPresent()) {
+        setUnnamedSources(unnamedSourcesOptional);
+      }
+      Optional<ImmutableSortedMap<String, SourcePath>> namedSourcesOptional = instance.getNamedSources();
+      if (namedSourcesOptional.isPresent()) {
+        setNamedSources(namedSourcesOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractSourceList#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setType(AbstractSourceList.Type type) {
+      this.type = Objects.requireNonNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractSourceList#getUnnamedSources() unnamedSources} to unnamedSources.
+     * @param unnamedSources The value for unnamedSources
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUnnamedSources(ImmutableSortedSet<SourcePath> unnamedSources) {
+      this.unnamedSources = Objects.requireNonNull(unnamedSources, "unnamedSources");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractSourceList#getUnnamedSources() unnamedSources} to unnamedSources.
+     * @param unnamedSources The value for unnamedSources
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUnnamedSources(Optional<? extends ImmutableSortedSet<SourcePath>> unnamedSources) {
+      this.unnamedSources = unnamedSources.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractSourceList#getNamedSources() namedSources} to namedSources.
+     * @param namedSources The value for namedSources
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNamedSources(ImmutableSortedMap<String, SourcePath> namedSources) {
+      this.namedSources = Objects.requireNonNull(namedSources, "namedSources");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractSourceList#getNamedSources() namedSources} to namedSources.
+     * @param namedSources The value for namedSources
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNamedSources(Optional<? extends ImmutableSortedMap<String, SourcePath>> namedSources) {
+      this.namedSources = namedSources.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link SourceList SourceList}.
+     * @return An immutable instance of SourceList
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SourceList build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return SourceList.validate(new SourceList(null, type, unnamedSources, namedSources));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      return "Cannot build SourceList, some of required attributes are not set " + attributes;
+    }
+  }
+}
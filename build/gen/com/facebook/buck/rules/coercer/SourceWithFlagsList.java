@@ -0,0 +1,334 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.rules.SourceWithFlags;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Simple type representing a list of {@link SourceWithFlags}. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSourceWithFlagsList"})
+@Immutable
+public final class SourceWithFlagsList extends AbstractSourceWithFlagsList {
+  private final AbstractSourceWithFlagsList.Type type;
+  private final @Nullable ImmutableSortedSet<SourceWithFlags> unnamedSources;
+  private final @Nullable ImmutableSortedMap<String, SourceWithFlags> namedSources;
+
+  private SourceWithFlagsList(
+      AbstractSourceWithFlagsList.Type type,
+      Optional<? extends ImmutableSortedSet<SourceWithFlags>> unnamedSources,
+      Optional<? extends ImmutableSortedMap<String, SourceWithFlags>> namedSources) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.unnamedSources = unnamedSources.orElse(null);
+    this.namedSources = namedSources.orElse(null);
+  }
+
+  private SourceWithFlagsList(
+      SourceWithFlagsList original,
+      AbstractSourceWithFlagsList.Type type,
+      @Nullable ImmutableSortedSet<SourceWithFlags> unnamedSources,
+      @Nullable ImmutableSortedMap<String, SourceWithFlags> namedSources) {
+    this.type = type;
+    this.unnamedSources = unnamedSources;
+    this.namedSources = namedSources;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public AbstractSourceWithFlagsList.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code unnamedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedSet<SourceWithFlags>> getUnnamedSources() {
+    return Optional.ofNullable(unnamedSources);
+  }
+
+  /**
+   * @return The value of the {@code namedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedMap<String, SourceWithFlags>> getNamedSources() {
+    return Optional.ofNullable(namedSources);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSourceWithFlagsList#getType() type} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final SourceWithFlagsList withType(AbstractSourceWithFlagsList.Type value) {
+    if (this.type == value) return this;
+    AbstractSourceWithFlagsList.Type newValue = Objects.requireNonNull(value, "type");
+    return validate(new SourceWithFlagsList(this, newValue, this.unnamedSources, this.namedSources));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractSourceWithFlagsList#getUnnamedSources() unnamedSources} attribute.
+   * @param value The value for unnamedSources
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceWithFlagsList withUnnamedSources(ImmutableSortedSet<SourceWithFlags> value) {
+    @Nullable ImmutableSortedSet<SourceWithFlags> newValue = Objects.requireNonNull(value, "unnamedSources");
+    if (this.unnamedSources == newValue) return this;
+    return validate(new SourceWithFlagsList(this, this.type, newValue, this.namedSources));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractSourceWithFlagsList#getUnnamedSources() unnamedSources} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for unnamedSources
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceWithFlagsList withUnnamedSources(Optional<? extends ImmutableSortedSet<SourceWithFlags>> optional) {
+    @Nullable ImmutableSortedSet<SourceWithFlags> value = optional.orElse(null);
+    if (this.unnamedSources == value) return this;
+    return validate(new SourceWithFlagsList(this, this.type, value, this.namedSources));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractSourceWithFlagsList#getNamedSources() namedSources} attribute.
+   * @param value The value for namedSources
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceWithFlagsList withNamedSources(ImmutableSortedMap<String, SourceWithFlags> value) {
+    @Nullable ImmutableSortedMap<String, SourceWithFlags> newValue = Objects.requireNonNull(value, "namedSources");
+    if (this.namedSources == newValue) return this;
+    return validate(new SourceWithFlagsList(this, this.type, this.unnamedSources, newValue));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractSourceWithFlagsList#getNamedSources() namedSources} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for namedSources
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceWithFlagsList withNamedSources(Optional<? extends ImmutableSortedMap<String, SourceWithFlags>> optional) {
+    @Nullable ImmutableSortedMap<String, SourceWithFlags> value = optional.orElse(null);
+    if (this.namedSources == value) return this;
+    return validate(new SourceWithFlagsList(this, this.type, this.unnamedSources, value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SourceWithFlagsList} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SourceWithFlagsList
+        && equalTo((SourceWithFlagsList) another);
+  }
+
+  private boolean equalTo(SourceWithFlagsList another) {
+    return type.equals(another.type)
+        && Objects.equals(unnamedSources, another.unnamedSources)
+        && Objects.equals(namedSources, another.namedSources);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code unnamedSources}, {@code namedSources}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + Objects.hashCode(unnamedSources);
+    h += (h << 5) + Objects.hashCode(namedSources);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SourceWithFlagsList} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourceWithFlagsList")
+        .omitNullValues()
+        .add("type", type)
+        .add("unnamedSources", unnamedSources)
+        .add("namedSources", namedSources)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SourceWithFlagsList} instance.
+   * @param type The value for the {@code type} attribute
+   * @param unnamedSources The value for the {@code unnamedSources} attribute
+   * @param namedSources The value for the {@code namedSources} attribute
+   * @return An immutable SourceWithFlagsList instance
+   */
+  public static SourceWithFlagsList of(AbstractSourceWithFlagsList.Type type, Optional<? extends ImmutableSortedSet<SourceWithFlags>> unnamedSources, Optional<? extends ImmutableSortedMap<String, SourceWithFlags>> namedSources) {
+    return validate(new SourceWithFlagsList(type, unnamedSources, namedSources));
+  }
+
+
+  private static SourceWithFlagsList validate(SourceWithFlagsList instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractSourceWithFlagsList} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable SourceWithFlagsList instance
+   */
+  static SourceWithFlagsList copyOf(AbstractSourceWithFlagsList instance) {
+    if (instance instanceof SourceWithFlagsList) {
+      return (SourceWithFlagsList) instance;
+    }
+    return SourceWithFlagsList.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link SourceWithFlagsList SourceWithFlagsList}.
+   * @return A new SourceWithFlagsList builder
+   */
+  public static SourceWithFlagsList.Builder builder() {
+    return new SourceWithFlagsList.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link SourceWithFlagsList SourceWithFlagsList}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TYPE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable AbstractSourceWithFlagsList.Type type;
+    private @Nullable ImmutableSortedSet<SourceWithFlags> unnamedSources;
+    private @Nullable ImmutableSortedMap<String, SourceWithFlags> namedSources;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SourceWithFlagsList} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(SourceWithFlagsList instance) {
+      return from((AbstractSourceWithFlagsList) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractSourceWithFlagsList} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractSourceWithFlagsList instance) {
+      Objects.requireNonNull(instance, "instance");
+      setType(instance.getType());
+      Optional<ImmutableSortedSet<SourceWithFlags>> unnamedSourcesOptional = instance.getUnnamedSources();
+      if (unnamedSourcesOptional.isPresent()) {
+        setUnnamedSources(unnamedSourcesOptional);
+      }
+      Optional<ImmutableSortedMap<String, SourceWithFlags>> namedSourcesOptional = instance.getNamedSources();
+      if (namedSourcesOptional.isPresent()) {
+        setNamedSources(namedSourcesOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractSourceWithFlagsList#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setType(AbstractSourceWithFlagsList.Type type) {
+      this.type = Objects.requireNonNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractSourceWithFlagsList#getUnnamedSources() unnamedSources} to unnamedSources.
+     * @param unnamedSources The value for unnamedSources
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUnnamedSources(ImmutableSortedSet<SourceWithFlags> unnamedSources) {
+      this.unnamedSources = Objects.requireNonNull(unnamedSources, "unnamedSources");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractSourceWithFlagsList#getUnnamedSources() unnamedSources} to unnamedSources.
+     * @param unnamedSources The value for unnamedSources
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUnnamedSources(Optional<? extends ImmutableSortedSet<SourceWithFlags>> unnamedSources) {
+      this.unnamedSources = unnamedSources.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractSourceWithFlagsList#getNamedSources() namedSources} to namedSources.
+     * @param namedSources The value for namedSources
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNamedSources(ImmutableSortedMap<String, SourceWithFlags> namedSources) {
+      this.namedSources = Objects.requireNonNull(namedSources, "namedSources");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractSourceWithFlagsList#getNamedSources() namedSources} to namedSources.
+     * @param namedSources The value for namedSources
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNamedSources(Optional<? extends ImmutableSortedMap<String, SourceWithFlags>> namedSources) {
+      this.namedSources = namedSources.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link SourceWithFlagsList SourceWithFlagsList}.
+     * @return An immutable instance of SourceWithFlagsList
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SourceWithFlagsList build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return SourceWithFlagsList.validate(new SourceWithFlagsList(null, type, unnamedSources, namedSources));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      return "Cannot build SourceWithFlagsList, some of required attributes are not set " + attributes;
+    }
+  }
+}
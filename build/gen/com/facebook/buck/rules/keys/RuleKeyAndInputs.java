@@ -0,0 +1,167 @@
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link DependencyFileRuleKeyFactory.AbstractRuleKeyAndInputs}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code RuleKeyAndInputs.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "DependencyFileRuleKeyFactory.AbstractRuleKeyAndInputs"})
+@Immutable
+public final class RuleKeyAndInputs
+    implements DependencyFileRuleKeyFactory.AbstractRuleKeyAndInputs {
+  private final RuleKey ruleKey;
+  private final ImmutableSet<SourcePath> inputs;
+
+  private RuleKeyAndInputs(
+      RuleKey ruleKey,
+      Iterable<? extends SourcePath> inputs) {
+    this.ruleKey = Objects.requireNonNull(ruleKey, "ruleKey");
+    this.inputs = ImmutableSet.copyOf(inputs);
+  }
+
+  private RuleKeyAndInputs(
+      RuleKeyAndInputs original,
+      RuleKey ruleKey,
+      ImmutableSet<SourcePath> inputs) {
+    this.ruleKey = ruleKey;
+    this.inputs = inputs;
+  }
+
+  /**
+   * @return The value of the {@code ruleKey} attribute
+   */
+  @Override
+  public RuleKey getRuleKey() {
+    return ruleKey;
+  }
+
+  /**
+   * @return The value of the {@code inputs} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getInputs() {
+    return inputs;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DependencyFileRuleKeyFactory.AbstractRuleKeyAndInputs#getRuleKey() ruleKey} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleKey
+   * @return A modified copy of the {@code this} object
+   */
+  public final RuleKeyAndInputs withRuleKey(RuleKey value) {
+    if (this.ruleKey == value) return this;
+    RuleKey newValue = Objects.requireNonNull(value, "ruleKey");
+    return new RuleKeyAndInputs(this, newValue, this.inputs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DependencyFileRuleKeyFactory.AbstractRuleKeyAndInputs#getInputs() inputs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RuleKeyAndInputs withInputs(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new RuleKeyAndInputs(this, this.ruleKey, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DependencyFileRuleKeyFactory.AbstractRuleKeyAndInputs#getInputs() inputs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of inputs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RuleKeyAndInputs withInputs(Iterable<? extends SourcePath> elements) {
+    if (this.inputs == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new RuleKeyAndInputs(this, this.ruleKey, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RuleKeyAndInputs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RuleKeyAndInputs
+        && equalTo((RuleKeyAndInputs) another);
+  }
+
+  private boolean equalTo(RuleKeyAndInputs another) {
+    return ruleKey.equals(another.ruleKey)
+        && inputs.equals(another.inputs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleKey}, {@code inputs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + ruleKey.hashCode();
+    h += (h << 5) + inputs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleKeyAndInputs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleKeyAndInputs")
+        .omitNullValues()
+        .add("ruleKey", ruleKey)
+        .add("inputs", inputs)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RuleKeyAndInputs} instance.
+   * @param ruleKey The value for the {@code ruleKey} attribute
+   * @param inputs The value for the {@code inputs} attribute
+   * @return An immutable RuleKeyAndInputs instance
+   */
+  public static RuleKeyAndInputs of(RuleKey ruleKey, ImmutableSet<SourcePath> inputs) {
+    return of(ruleKey, (Iterable<? extends SourcePath>) inputs);
+  }
+
+  /**
+   * Construct a new immutable {@code RuleKeyAndInputs} instance.
+   * @param ruleKey The value for the {@code ruleKey} attribute
+   * @param inputs The value for the {@code inputs} attribute
+   * @return An immutable RuleKeyAndInputs instance
+   */
+  public static RuleKeyAndInputs of(RuleKey ruleKey, Iterable<? extends SourcePath> inputs) {
+    return new RuleKeyAndInputs(ruleKey, inputs);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link DependencyFileRuleKeyFactory.AbstractRuleKeyAndInputs} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable RuleKeyAndInputs instance
+   */
+  public static RuleKeyAndInputs copyOf(DependencyFileRuleKeyFactory.AbstractRuleKeyAndInputs instance) {
+    if (instance instanceof RuleKeyAndInputs) {
+      return (RuleKeyAndInputs) instance;
+    }
+    return RuleKeyAndInputs.of(instance.getRuleKey(), instance.getInputs());
+  }
+}
@@ -0,0 +1,170 @@
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.rules.RuleKey;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *The various rule key factories used by the build engine. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractRuleKeyFactories"})
+@Immutable
+public final class RuleKeyFactories extends AbstractRuleKeyFactories {
+  private final RuleKeyFactoryWithDiagnostics<RuleKey> defaultRuleKeyFactory;
+  private final RuleKeyFactory<RuleKey> inputBasedRuleKeyFactory;
+  private final DependencyFileRuleKeyFactory depFileRuleKeyFactory;
+
+  private RuleKeyFactories(
+      RuleKeyFactoryWithDiagnostics<RuleKey> defaultRuleKeyFactory,
+      RuleKeyFactory<RuleKey> inputBasedRuleKeyFactory,
+      DependencyFileRuleKeyFactory depFileRuleKeyFactory) {
+    this.defaultRuleKeyFactory = Objects.requireNonNull(defaultRuleKeyFactory, "defaultRuleKeyFactory");
+    this.inputBasedRuleKeyFactory = Objects.requireNonNull(inputBasedRuleKeyFactory, "inputBasedRuleKeyFactory");
+    this.depFileRuleKeyFactory = Objects.requireNonNull(depFileRuleKeyFactory, "depFileRuleKeyFactory");
+  }
+
+  private RuleKeyFactories(
+      RuleKeyFactories original,
+      RuleKeyFactoryWithDiagnostics<RuleKey> defaultRuleKeyFactory,
+      RuleKeyFactory<RuleKey> inputBasedRuleKeyFactory,
+      DependencyFileRuleKeyFactory depFileRuleKeyFactory) {
+    this.defaultRuleKeyFactory = defaultRuleKeyFactory;
+    this.inputBasedRuleKeyFactory = inputBasedRuleKeyFactory;
+    this.depFileRuleKeyFactory = depFileRuleKeyFactory;
+  }
+
+  /**
+   *@return a {@link RuleKeyFactory} that produces {@link RuleKey}s. 
+   */
+  @Override
+  public RuleKeyFactoryWithDiagnostics<RuleKey> getDefaultRuleKeyFactory() {
+    return defaultRuleKeyFactory;
+  }
+
+  /**
+   *@return a {@link RuleKeyFactory} that produces input-based {@link RuleKey}s. 
+   */
+  @Override
+  public RuleKeyFactory<RuleKey> getInputBasedRuleKeyFactory() {
+    return inputBasedRuleKeyFactory;
+  }
+
+  /**
+   * @return a {@link DependencyFileRuleKeyFactory} that produces dep-file-based {@link RuleKey}s.
+   */
+  @Override
+  public DependencyFileRuleKeyFactory getDepFileRuleKeyFactory() {
+    return depFileRuleKeyFactory;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractRuleKeyFactories#getDefaultRuleKeyFactory() defaultRuleKeyFactory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for defaultRuleKeyFactory
+   * @return A modified copy of the {@code this} object
+   */
+  public final RuleKeyFactories withDefaultRuleKeyFactory(RuleKeyFactoryWithDiagnostics<RuleKey> value) {
+    if (this.defaultRuleKeyFactory == value) return this;
+    RuleKeyFactoryWithDiagnostics<RuleKey> newValue = Objects.requireNonNull(value, "defaultRuleKeyFactory");
+    return new RuleKeyFactories(this, newValue, this.inputBasedRuleKeyFactory, this.depFileRuleKeyFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractRuleKeyFactories#getInputBasedRuleKeyFactory() inputBasedRuleKeyFactory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for inputBasedRuleKeyFactory
+   * @return A modified copy of the {@code this} object
+   */
+  public final RuleKeyFactories withInputBasedRuleKeyFactory(RuleKeyFactory<RuleKey> value) {
+    if (this.inputBasedRuleKeyFactory == value) return this;
+    RuleKeyFactory<RuleKey> newValue = Objects.requireNonNull(value, "inputBasedRuleKeyFactory");
+    return new RuleKeyFactories(this, this.defaultRuleKeyFactory, newValue, this.depFileRuleKeyFactory);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractRuleKeyFactories#getDepFileRuleKeyFactory() depFileRuleKeyFactory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for depFileRuleKeyFactory
+   * @return A modified copy of the {@code this} object
+   */
+  public final RuleKeyFactories withDepFileRuleKeyFactory(DependencyFileRuleKeyFactory value) {
+    if (this.depFileRuleKeyFactory == value) return this;
+    DependencyFileRuleKeyFactory newValue = Objects.requireNonNull(value, "depFileRuleKeyFactory");
+    return new RuleKeyFactories(this, this.defaultRuleKeyFactory, this.inputBasedRuleKeyFactory, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RuleKeyFactories} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RuleKeyFactories
+        && equalTo((RuleKeyFactories) another);
+  }
+
+  private boolean equalTo(RuleKeyFactories another) {
+    return defaultRuleKeyFactory.equals(another.defaultRuleKeyFactory)
+        && inputBasedRuleKeyFactory.equals(another.inputBasedRuleKeyFactory)
+        && depFileRuleKeyFactory.equals(another.depFileRuleKeyFactory);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code defaultRuleKeyFactory}, {@code inputBasedRuleKeyFactory}, {@code depFileRuleKeyFactory}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + defaultRuleKeyFactory.hashCode();
+    h += (h << 5) + inputBasedRuleKeyFactory.hashCode();
+    h += (h << 5) + depFileRuleKeyFactory.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleKeyFactories} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleKeyFactories")
+        .omitNullValues()
+        .add("defaultRuleKeyFactory", defaultRuleKeyFactory)
+        .add("inputBasedRuleKeyFactory", inputBasedRuleKeyFactory)
+        .add("depFileRuleKeyFactory", depFileRuleKeyFactory)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RuleKeyFactories} instance.
+   * @param defaultRuleKeyFactory The value for the {@code defaultRuleKeyFactory} attribute
+   * @param inputBasedRuleKeyFactory The value for the {@code inputBasedRuleKeyFactory} attribute
+   * @param depFileRuleKeyFactory The value for the {@code depFileRuleKeyFactory} attribute
+   * @return An immutable RuleKeyFactories instance
+   */
+  public static RuleKeyFactories of(RuleKeyFactoryWithDiagnostics<RuleKey> defaultRuleKeyFactory, RuleKeyFactory<RuleKey> inputBasedRuleKeyFactory, DependencyFileRuleKeyFactory depFileRuleKeyFactory) {
+    return new RuleKeyFactories(defaultRuleKeyFactory, inputBasedRuleKeyFactory, depFileRuleKeyFactory);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractRuleKeyFactories} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable RuleKeyFactories instance
+   */
+  static RuleKeyFactories copyOf(AbstractRuleKeyFactories instance) {
+    if (instance instanceof RuleKeyFactories) {
+      return (RuleKeyFactories) instance;
+    }
+    return RuleKeyFactories.of(instance.getDefaultRuleKeyFactory(), instance.getInputBasedRuleKeyFactory(), instance.getDepFileRuleKeyFactory());
+  }
+}
@@ -0,0 +1,109 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *Macro that resolves to the output location of a build rule. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractLocationMacro"})
+@Immutable
+public final class LocationMacro extends AbstractLocationMacro {
+  private final BuildTarget target;
+
+  private LocationMacro(BuildTarget target) {
+    this.target = Objects.requireNonNull(target, "target");
+  }
+
+  private LocationMacro(LocationMacro original, BuildTarget target) {
+    this.target = target;
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLocationMacro#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final LocationMacro withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "target");
+    return new LocationMacro(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code LocationMacro} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof LocationMacro
+        && equalTo((LocationMacro) another);
+  }
+
+  private boolean equalTo(LocationMacro another) {
+    return target.equals(another.target);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code target}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + target.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LocationMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LocationMacro")
+        .omitNullValues()
+        .add("target", target)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LocationMacro} instance.
+   * @param target The value for the {@code target} attribute
+   * @return An immutable LocationMacro instance
+   */
+  public static LocationMacro of(BuildTarget target) {
+    return new LocationMacro(target);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractLocationMacro} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable LocationMacro instance
+   */
+  static LocationMacro copyOf(AbstractLocationMacro instance) {
+    if (instance instanceof LocationMacro) {
+      return (LocationMacro) instance;
+    }
+    return LocationMacro.of(instance.getTarget());
+  }
+}
@@ -0,0 +1,202 @@
+package com.facebook.buck.rules.modern;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * This can be passed around as a SourcePath, but it can only be resolved by InputPathResolver's
+ * LimitedSourcePathResolver. This is just meant to be used for interacting with old-style Steps
+ * that take in SourcePath and resolvers.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractLimitedSourcePath"})
+@Immutable
+public final class LimitedSourcePath extends AbstractLimitedSourcePath {
+  private final SourcePath limitedSourcePath;
+  private final int hashCode;
+
+  private LimitedSourcePath(SourcePath limitedSourcePath) {
+    this.limitedSourcePath = Objects.requireNonNull(limitedSourcePath, "limitedSourcePath");
+    this.hashCode = computeHashCode();
+  }
+
+  private LimitedSourcePath(LimitedSourcePath original, SourcePath limitedSourcePath) {
+    this.limitedSourcePath = limitedSourcePath;
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code limitedSourcePath} attribute
+   */
+  @Override
+  public SourcePath getLimitedSourcePath() {
+    return limitedSourcePath;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLimitedSourcePath#getLimitedSourcePath() limitedSourcePath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for limitedSourcePath
+   * @return A modified copy of the {@code this} object
+   */
+  public final LimitedSourcePath withLimitedSourcePath(SourcePath value) {
+    if (this.limitedSourcePath == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "limitedSourcePath");
+    return new LimitedSourcePath(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code LimitedSourcePath} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof LimitedSourcePath
+        && equalTo((LimitedSourcePath) another);
+  }
+
+  private boolean equalTo(LimitedSourcePath another) {
+    if (hashCode != another.hashCode) return false;
+    return limitedSourcePath.equals(another.limitedSourcePath);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code limitedSourcePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int h = 5381;
+    h += (h << 5) + limitedSourcePath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LimitedSourcePath} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LimitedSourcePath")
+        .omitNullValues()
+        .add("limitedSourcePath", limitedSourcePath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LimitedSourcePath} instance.
+   * @param limitedSourcePath The value for the {@code limitedSourcePath} attribute
+   * @return An immutable LimitedSourcePath instance
+   */
+  public static LimitedSourcePath of(SourcePath limitedSourcePath) {
+    return new LimitedSourcePath(limitedSourcePath);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractLimitedSourcePath} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable LimitedSourcePath instance
+   */
+  static LimitedSourcePath copyOf(AbstractLimitedSourcePath instance) {
+    if (instance instanceof LimitedSourcePath) {
+      return (LimitedSourcePath) instance;
+    }
+    return LimitedSourcePath.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link LimitedSourcePath LimitedSourcePath}.
+   * @return A new LimitedSourcePath builder
+   */
+  public static LimitedSourcePath.Builder builder() {
+    return new LimitedSourcePath.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link LimitedSourcePath LimitedSourcePath}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_LIMITED_SOURCE_PATH = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable SourcePath limitedSourcePath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code LimitedSourcePath} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(LimitedSourcePath instance) {
+      return from((AbstractLimitedSourcePath) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractLimitedSourcePath} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractLimitedSourcePath instance) {
+      Objects.requireNonNull(instance, "instance");
+      setLimitedSourcePath(instance.getLimitedSourcePath());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractLimitedSourcePath#getLimitedSourcePath() limitedSourcePath} attribute.
+     * @param limitedSourcePath The value for limitedSourcePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLimitedSourcePath(SourcePath limitedSourcePath) {
+      this.limitedSourcePath = Objects.requireNonNull(limitedSourcePath, "limitedSourcePath");
+      initBits &= ~INIT_BIT_LIMITED_SOURCE_PATH;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link LimitedSourcePath LimitedSourcePath}.
+     * @return An immutable instance of LimitedSourcePath
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public LimitedSourcePath build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new LimitedSourcePath(null, limitedSourcePath);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_LIMITED_SOURCE_PATH) != 0) attributes.add("limitedSourcePath");
+      return "Cannot build LimitedSourcePath, some of required attributes are not set " + attributes;
+    }
+  }
+}
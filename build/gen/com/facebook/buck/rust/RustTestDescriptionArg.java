@@ -0,0 +1,1609 @@
+package com.facebook.buck.rust;
+
+import com.facebook.buck.cxx.toolchain.linker.Linker;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasSrcs;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link RustTestDescription.AbstractRustTestDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code RustTestDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "RustTestDescription.AbstractRustTestDescriptionArg"})
+@Immutable
+public final class RustTestDescriptionArg
+    implements RustTestDescription.AbstractRustTestDescriptionArg {
+  private final ImmutableSet<String> contacts;
+  private final ImmutableSortedSet<String> features;
+  private final ImmutableList<String> rustcFlags;
+  private final ImmutableList<String> linkerFlags;
+  private final @Nullable Linker.LinkableDepType linkStyle;
+  private final boolean rpath;
+  private final boolean framework;
+  private final @Nullable String crate;
+  private final @Nullable SourcePath crateRoot;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<SourcePath> srcs;
+
+  private RustTestDescriptionArg(RustTestDescriptionArg.Builder builder) {
+    this.contacts = builder.contacts.build();
+    this.features = builder.features.build();
+    this.rustcFlags = builder.rustcFlags.build();
+    this.linkerFlags = builder.linkerFlags.build();
+    this.linkStyle = builder.linkStyle;
+    this.crate = builder.crate;
+    this.crateRoot = builder.crateRoot;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.srcs = builder.srcs.build();
+    if (builder.rpathIsSet()) {
+      initShim.setRpath(builder.rpath);
+    }
+    if (builder.frameworkIsSet()) {
+      initShim.setFramework(builder.framework);
+    }
+    this.rpath = initShim.isRpath();
+    this.framework = initShim.isFramework();
+    this.initShim = null;
+  }
+
+  private RustTestDescriptionArg(
+      ImmutableSet<String> contacts,
+      ImmutableSortedSet<String> features,
+      ImmutableList<String> rustcFlags,
+      ImmutableList<String> linkerFlags,
+      @Nullable Linker.LinkableDepType linkStyle,
+      boolean rpath,
+      boolean framework,
+      @Nullable String crate,
+      @Nullable SourcePath crateRoot,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<SourcePath> srcs) {
+    this.contacts = contacts;
+    this.features = features;
+    this.rustcFlags = rustcFlags;
+    this.linkerFlags = linkerFlags;
+    this.linkStyle = linkStyle;
+    this.rpath = rpath;
+    this.framework = framework;
+    this.crate = crate;
+    this.crateRoot = crateRoot;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.srcs = srcs;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean rpath;
+    private int rpathBuildStage;
+
+    boolean isRpath() {
+      if (rpathBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (rpathBuildStage == STAGE_UNINITIALIZED) {
+        rpathBuildStage = STAGE_INITIALIZING;
+        this.rpath = isRpathInitialize();
+        rpathBuildStage = STAGE_INITIALIZED;
+      }
+      return this.rpath;
+    }
+
+    void setRpath(boolean rpath) {
+      this.rpath = rpath;
+      rpathBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean framework;
+    private int frameworkBuildStage;
+
+    boolean isFramework() {
+      if (frameworkBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (frameworkBuildStage == STAGE_UNINITIALIZED) {
+        frameworkBuildStage = STAGE_INITIALIZING;
+        this.framework = isFrameworkInitialize();
+        frameworkBuildStage = STAGE_INITIALIZED;
+      }
+      return this.framework;
+    }
+
+    void setFramework(boolean framework) {
+      this.framework = framework;
+      frameworkBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (rpathBuildStage == STAGE_INITIALIZING) attributes.add("rpath");
+      if (frameworkBuildStage == STAGE_INITIALIZING) attributes.add("framework");
+      return "Cannot build RustTestDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private boolean isRpathInitialize() {
+    return RustTestDescription.AbstractRustTestDescriptionArg.super.isRpath();
+  }
+
+  private boolean isFrameworkInitialize() {
+    return RustTestDescription.AbstractRustTestDescriptionArg.super.isFramework();
+  }
+
+  /**
+   * @return The value of the {@code contacts} attribute
+   */
+  @Override
+  public ImmutableSet<String> getContacts() {
+    return contacts;
+  }
+
+  /**
+   * @return The value of the {@code features} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getFeatures() {
+    return features;
+  }
+
+  /**
+   * @return The value of the {@code rustcFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getRustcFlags() {
+    return rustcFlags;
+  }
+
+  /**
+   * @return The value of the {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code linkStyle} attribute
+   */
+  @Override
+  public Optional<Linker.LinkableDepType> getLinkStyle() {
+    return Optional.ofNullable(linkStyle);
+  }
+
+  /**
+   * @return The value of the {@code rpath} attribute
+   */
+  @Override
+  public boolean isRpath() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isRpath()
+        : this.rpath;
+  }
+
+  /**
+   * @return The value of the {@code framework} attribute
+   */
+  @Override
+  public boolean isFramework() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isFramework()
+        : this.framework;
+  }
+
+  /**
+   * @return The value of the {@code crate} attribute
+   */
+  @Override
+  public Optional<String> getCrate() {
+    return Optional.ofNullable(crate);
+  }
+
+  /**
+   * @return The value of the {@code crateRoot} attribute
+   */
+  @Override
+  public Optional<SourcePath> getCrateRoot() {
+    return Optional.ofNullable(crateRoot);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustTestDescription.AbstractRustTestDescriptionArg#getContacts() contacts}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withContacts(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new RustTestDescriptionArg(
+        newValue,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustTestDescription.AbstractRustTestDescriptionArg#getContacts() contacts}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of contacts elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withContacts(Iterable<String> elements) {
+    if (this.contacts == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new RustTestDescriptionArg(
+        newValue,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustTestDescription.AbstractRustTestDescriptionArg#getFeatures() features}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withFeatures(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new RustTestDescriptionArg(
+        this.contacts,
+        newValue,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustTestDescription.AbstractRustTestDescriptionArg#getFeatures() features}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of features elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withFeatures(Iterable<String> elements) {
+    if (this.features == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new RustTestDescriptionArg(
+        this.contacts,
+        newValue,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustTestDescription.AbstractRustTestDescriptionArg#getRustcFlags() rustcFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withRustcFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        newValue,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustTestDescription.AbstractRustTestDescriptionArg#getRustcFlags() rustcFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of rustcFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withRustcFlags(Iterable<String> elements) {
+    if (this.rustcFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        newValue,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustTestDescription.AbstractRustTestDescriptionArg#getLinkerFlags() linkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withLinkerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        newValue,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustTestDescription.AbstractRustTestDescriptionArg#getLinkerFlags() linkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of linkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withLinkerFlags(Iterable<String> elements) {
+    if (this.linkerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        newValue,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RustTestDescription.AbstractRustTestDescriptionArg#getLinkStyle() linkStyle} attribute.
+   * @param value The value for linkStyle
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withLinkStyle(Linker.LinkableDepType value) {
+    @Nullable Linker.LinkableDepType newValue = Objects.requireNonNull(value, "linkStyle");
+    if (this.linkStyle == newValue) return this;
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        newValue,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RustTestDescription.AbstractRustTestDescriptionArg#getLinkStyle() linkStyle} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for linkStyle
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withLinkStyle(Optional<? extends Linker.LinkableDepType> optional) {
+    @Nullable Linker.LinkableDepType value = optional.orElse(null);
+    if (Objects.equals(this.linkStyle, value)) return this;
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        value,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RustTestDescription.AbstractRustTestDescriptionArg#isRpath() rpath} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for rpath
+   * @return A modified copy of the {@code this} object
+   */
+  public final RustTestDescriptionArg withRpath(boolean value) {
+    if (this.rpath == value) return this;
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        value,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RustTestDescription.AbstractRustTestDescriptionArg#isFramework() framework} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for framework
+   * @return A modified copy of the {@code this} object
+   */
+  public final RustTestDescriptionArg withFramework(boolean value) {
+    if (this.framework == value) return this;
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        value,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RustTestDescription.AbstractRustTestDescriptionArg#getCrate() crate} attribute.
+   * @param value The value for crate
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withCrate(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "crate");
+    if (Objects.equals(this.crate, newValue)) return this;
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        newValue,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RustTestDescription.AbstractRustTestDescriptionArg#getCrate() crate} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for crate
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withCrate(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.crate, value)) return this;
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        value,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RustTestDescription.AbstractRustTestDescriptionArg#getCrateRoot() crateRoot} attribute.
+   * @param value The value for crateRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withCrateRoot(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "crateRoot");
+    if (this.crateRoot == newValue) return this;
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RustTestDescription.AbstractRustTestDescriptionArg#getCrateRoot() crateRoot} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for crateRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withCrateRoot(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.crateRoot == value) return this;
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RustTestDescription.AbstractRustTestDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final RustTestDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustTestDescription.AbstractRustTestDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustTestDescription.AbstractRustTestDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustTestDescription.AbstractRustTestDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustTestDescription.AbstractRustTestDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustTestDescription.AbstractRustTestDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustTestDescription.AbstractRustTestDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustTestDescription.AbstractRustTestDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withSrcs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustTestDescription.AbstractRustTestDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustTestDescriptionArg withSrcs(Iterable<? extends SourcePath> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new RustTestDescriptionArg(
+        this.contacts,
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.rpath,
+        this.framework,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RustTestDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RustTestDescriptionArg
+        && equalTo((RustTestDescriptionArg) another);
+  }
+
+  private boolean equalTo(RustTestDescriptionArg another) {
+    return contacts.equals(another.contacts)
+        && features.equals(another.features)
+        && rustcFlags.equals(another.rustcFlags)
+        && linkerFlags.equals(another.linkerFlags)
+        && Objects.equals(linkStyle, another.linkStyle)
+        && rpath == another.rpath
+        && framework == another.framework
+        && Objects.equals(crate, another.crate)
+        && Objects.equals(crateRoot, another.crateRoot)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && srcs.equals(another.srcs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code contacts}, {@code features}, {@code rustcFlags}, {@code linkerFlags}, {@code linkStyle}, {@code rpath}, {@code framework}, {@code crate}, {@code crateRoot}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code srcs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + contacts.hashCode();
+    h += (h << 5) + features.hashCode();
+    h += (h << 5) + rustcFlags.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(linkStyle);
+    h += (h << 5) + Booleans.hashCode(rpath);
+    h += (h << 5) + Booleans.hashCode(framework);
+    h += (h << 5) + Objects.hashCode(crate);
+    h += (h << 5) + Objects.hashCode(crateRoot);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RustTestDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RustTestDescriptionArg")
+        .omitNullValues()
+        .add("contacts", contacts)
+        .add("features", features)
+        .add("rustcFlags", rustcFlags)
+        .add("linkerFlags", linkerFlags)
+        .add("linkStyle", linkStyle)
+        .add("rpath", rpath)
+        .add("framework", framework)
+        .add("crate", crate)
+        .add("crateRoot", crateRoot)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("srcs", srcs)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link RustTestDescription.AbstractRustTestDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable RustTestDescriptionArg instance
+   */
+  static RustTestDescriptionArg copyOf(RustTestDescription.AbstractRustTestDescriptionArg instance) {
+    if (instance instanceof RustTestDescriptionArg) {
+      return (RustTestDescriptionArg) instance;
+    }
+    return RustTestDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link RustTestDescriptionArg RustTestDescriptionArg}.
+   * @return A new RustTestDescriptionArg builder
+   */
+  public static RustTestDescriptionArg.Builder builder() {
+    return new RustTestDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link RustTestDescriptionArg RustTestDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_RPATH = 0x1L;
+    private static final long OPT_BIT_FRAMEWORK = 0x2L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private ImmutableSet.Builder<String> contacts = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> features = ImmutableSortedSet.naturalOrder();
+    private ImmutableList.Builder<String> rustcFlags = ImmutableList.builder();
+    private ImmutableList.Builder<String> linkerFlags = ImmutableList.builder();
+    private @Nullable Linker.LinkableDepType linkStyle;
+    private boolean rpath;
+    private boolean framework;
+    private @Nullable String crate;
+    private @Nullable SourcePath crateRoot;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasSrcs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasSrcs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RustTestDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(RustTestDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractRustTestDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(RustTestDescription.AbstractRustTestDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasSrcs) {
+        HasSrcs instance = (HasSrcs) object;
+        addAllSrcs(instance.getSrcs());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof RustTestDescription.AbstractRustTestDescriptionArg) {
+        RustTestDescription.AbstractRustTestDescriptionArg instance = (RustTestDescription.AbstractRustTestDescriptionArg) object;
+        addAllFeatures(instance.getFeatures());
+        Optional<Linker.LinkableDepType> linkStyleOptional = instance.getLinkStyle();
+        if (linkStyleOptional.isPresent()) {
+          setLinkStyle(linkStyleOptional);
+        }
+        setFramework(instance.isFramework());
+        Optional<SourcePath> crateRootOptional = instance.getCrateRoot();
+        if (crateRootOptional.isPresent()) {
+          setCrateRoot(crateRootOptional);
+        }
+        addAllRustcFlags(instance.getRustcFlags());
+        addAllLinkerFlags(instance.getLinkerFlags());
+        Optional<String> crateOptional = instance.getCrate();
+        if (crateOptional.isPresent()) {
+          setCrate(crateOptional);
+        }
+        setRpath(instance.isRpath());
+        addAllContacts(instance.getContacts());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Adds one element to {@link RustTestDescription.AbstractRustTestDescriptionArg#getContacts() contacts} set.
+     * @param element A contacts element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addContacts(String element) {
+      this.contacts.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustTestDescription.AbstractRustTestDescriptionArg#getContacts() contacts} set.
+     * @param elements An array of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addContacts(String... elements) {
+      this.contacts.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustTestDescription.AbstractRustTestDescriptionArg#getContacts() contacts} set.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setContacts(Iterable<String> elements) {
+      this.contacts = ImmutableSet.builder();
+      return addAllContacts(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustTestDescription.AbstractRustTestDescriptionArg#getContacts() contacts} set.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllContacts(Iterable<String> elements) {
+      this.contacts.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RustTestDescription.AbstractRustTestDescriptionArg#getFeatures() features} sortedSet.
+     * @param element A features element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFeatures(String element) {
+      this.features.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustTestDescription.AbstractRustTestDescriptionArg#getFeatures() features} sortedSet.
+     * @param elements An array of features elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFeatures(String... elements) {
+      this.features.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustTestDescription.AbstractRustTestDescriptionArg#getFeatures() features} sortedSet.
+     * @param elements An iterable of features elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFeatures(Iterable<String> elements) {
+      this.features = ImmutableSortedSet.naturalOrder();
+      return addAllFeatures(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustTestDescription.AbstractRustTestDescriptionArg#getFeatures() features} sortedSet.
+     * @param elements An iterable of features elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllFeatures(Iterable<String> elements) {
+      this.features.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RustTestDescription.AbstractRustTestDescriptionArg#getRustcFlags() rustcFlags} list.
+     * @param element A rustcFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRustcFlags(String element) {
+      this.rustcFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustTestDescription.AbstractRustTestDescriptionArg#getRustcFlags() rustcFlags} list.
+     * @param elements An array of rustcFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRustcFlags(String... elements) {
+      this.rustcFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustTestDescription.AbstractRustTestDescriptionArg#getRustcFlags() rustcFlags} list.
+     * @param elements An iterable of rustcFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRustcFlags(Iterable<String> elements) {
+      this.rustcFlags = ImmutableList.builder();
+      return addAllRustcFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustTestDescription.AbstractRustTestDescriptionArg#getRustcFlags() rustcFlags} list.
+     * @param elements An iterable of rustcFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllRustcFlags(Iterable<String> elements) {
+      this.rustcFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RustTestDescription.AbstractRustTestDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustTestDescription.AbstractRustTestDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustTestDescription.AbstractRustTestDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustTestDescription.AbstractRustTestDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RustTestDescription.AbstractRustTestDescriptionArg#getLinkStyle() linkStyle} to linkStyle.
+     * @param linkStyle The value for linkStyle
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLinkStyle(Linker.LinkableDepType linkStyle) {
+      this.linkStyle = Objects.requireNonNull(linkStyle, "linkStyle");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RustTestDescription.AbstractRustTestDescriptionArg#getLinkStyle() linkStyle} to linkStyle.
+     * @param linkStyle The value for linkStyle
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkStyle(Optional<? extends Linker.LinkableDepType> linkStyle) {
+      this.linkStyle = linkStyle.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RustTestDescription.AbstractRustTestDescriptionArg#isRpath() rpath} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link RustTestDescription.AbstractRustTestDescriptionArg#isRpath() rpath}.</em>
+     * @param rpath The value for rpath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRpath(boolean rpath) {
+      this.rpath = rpath;
+      optBits |= OPT_BIT_RPATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link RustTestDescription.AbstractRustTestDescriptionArg#isFramework() framework} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link RustTestDescription.AbstractRustTestDescriptionArg#isFramework() framework}.</em>
+     * @param framework The value for framework 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFramework(boolean framework) {
+      this.framework = framework;
+      optBits |= OPT_BIT_FRAMEWORK;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link RustTestDescription.AbstractRustTestDescriptionArg#getCrate() crate} to crate.
+     * @param crate The value for crate
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCrate(String crate) {
+      this.crate = Objects.requireNonNull(crate, "crate");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RustTestDescription.AbstractRustTestDescriptionArg#getCrate() crate} to crate.
+     * @param crate The value for crate
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCrate(Optional<String> crate) {
+      this.crate = crate.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RustTestDescription.AbstractRustTestDescriptionArg#getCrateRoot() crateRoot} to crateRoot.
+     * @param crateRoot The value for crateRoot
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCrateRoot(SourcePath crateRoot) {
+      this.crateRoot = Objects.requireNonNull(crateRoot, "crateRoot");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RustTestDescription.AbstractRustTestDescriptionArg#getCrateRoot() crateRoot} to crateRoot.
+     * @param crateRoot The value for crateRoot
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCrateRoot(Optional<? extends SourcePath> crateRoot) {
+      this.crateRoot = crateRoot.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RustTestDescription.AbstractRustTestDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link RustTestDescription.AbstractRustTestDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustTestDescription.AbstractRustTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustTestDescription.AbstractRustTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustTestDescription.AbstractRustTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RustTestDescription.AbstractRustTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustTestDescription.AbstractRustTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustTestDescription.AbstractRustTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustTestDescription.AbstractRustTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RustTestDescription.AbstractRustTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustTestDescription.AbstractRustTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustTestDescription.AbstractRustTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustTestDescription.AbstractRustTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RustTestDescription.AbstractRustTestDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustTestDescription.AbstractRustTestDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustTestDescription.AbstractRustTestDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustTestDescription.AbstractRustTestDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link RustTestDescriptionArg RustTestDescriptionArg}.
+     * @return An immutable instance of RustTestDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RustTestDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new RustTestDescriptionArg(this);
+    }
+
+    private boolean rpathIsSet() {
+      return (optBits & OPT_BIT_RPATH) != 0;
+    }
+
+    private boolean frameworkIsSet() {
+      return (optBits & OPT_BIT_FRAMEWORK) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build RustTestDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,663 @@
+package com.facebook.buck.shell;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.macros.StringWithMacros;
+import com.facebook.buck.util.environment.Platform;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CommandAliasDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "CommandAliasDescription.AbstractCommandAliasDescriptionArg"})
+@Immutable
+public final class CommandAliasDescriptionArg
+    implements CommandAliasDescription.AbstractCommandAliasDescriptionArg {
+  private final ImmutableList<StringWithMacros> args;
+  private final @Nullable BuildTarget exe;
+  private final ImmutableSortedMap<Platform, BuildTarget> platformExe;
+  private final ImmutableMap<String, StringWithMacros> env;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+
+  private CommandAliasDescriptionArg(
+      ImmutableList<StringWithMacros> args,
+      @Nullable BuildTarget exe,
+      ImmutableSortedMap<Platform, BuildTarget> platformExe,
+      ImmutableMap<String, StringWithMacros> env,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels) {
+    this.args = args;
+    this.exe = exe;
+    this.platformExe = platformExe;
+    this.env = env;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+  }
+
+  /**
+   * @return The value of the {@code args} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getArgs() {
+    return args;
+  }
+
+  /**
+   * @return The value of the {@code exe} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getExe() {
+    return Optional.ofNullable(exe);
+  }
+
+  /**
+   * @return The value of the {@code platformExe} attribute
+   */
+  @Override
+  public ImmutableSortedMap<Platform, BuildTarget> getPlatformExe() {
+    return platformExe;
+  }
+
+  /**
+   * @return The value of the {@code env} attribute
+   */
+  @Override
+  public ImmutableMap<String, StringWithMacros> getEnv() {
+    return env;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getArgs() args}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandAliasDescriptionArg withArgs(StringWithMacros... elements) {
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return new CommandAliasDescriptionArg(newValue, this.exe, this.platformExe, this.env, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getArgs() args}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of args elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandAliasDescriptionArg withArgs(Iterable<? extends StringWithMacros> elements) {
+    if (this.args == elements) return this;
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return new CommandAliasDescriptionArg(newValue, this.exe, this.platformExe, this.env, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getExe() exe} attribute.
+   * @param value The value for exe
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandAliasDescriptionArg withExe(BuildTarget value) {
+    @Nullable BuildTarget newValue = Objects.requireNonNull(value, "exe");
+    if (this.exe == newValue) return this;
+    return new CommandAliasDescriptionArg(this.args, newValue, this.platformExe, this.env, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getExe() exe} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for exe
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandAliasDescriptionArg withExe(Optional<? extends BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.exe == value) return this;
+    return new CommandAliasDescriptionArg(this.args, value, this.platformExe, this.env, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getPlatformExe() platformExe} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the platformExe map
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandAliasDescriptionArg withPlatformExe(Map<? extends Platform, ? extends BuildTarget> entries) {
+    if (this.platformExe == entries) return this;
+    ImmutableSortedMap<Platform, BuildTarget> newValue = ImmutableSortedMap.copyOf(entries,
+        Ordering.<Platform>natural()
+    );
+    return new CommandAliasDescriptionArg(this.args, this.exe, newValue, this.env, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getEnv() env} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the env map
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandAliasDescriptionArg withEnv(Map<String, ? extends StringWithMacros> entries) {
+    if (this.env == entries) return this;
+    ImmutableMap<String, StringWithMacros> newValue = ImmutableMap.copyOf(entries);
+    return new CommandAliasDescriptionArg(this.args, this.exe, this.platformExe, newValue, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandAliasDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new CommandAliasDescriptionArg(this.args, this.exe, this.platformExe, this.env, newValue, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandAliasDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new CommandAliasDescriptionArg(this.args, this.exe, this.platformExe, this.env, this.name, newValue, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandAliasDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new CommandAliasDescriptionArg(this.args, this.exe, this.platformExe, this.env, this.name, newValue, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandAliasDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new CommandAliasDescriptionArg(this.args, this.exe, this.platformExe, this.env, this.name, this.licenses, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandAliasDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new CommandAliasDescriptionArg(this.args, this.exe, this.platformExe, this.env, this.name, this.licenses, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CommandAliasDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CommandAliasDescriptionArg
+        && equalTo((CommandAliasDescriptionArg) another);
+  }
+
+  private boolean equalTo(CommandAliasDescriptionArg another) {
+    return args.equals(another.args)
+        && Objects.equals(exe, another.exe)
+        && platformExe.equals(another.platformExe)
+        && env.equals(another.env)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code args}, {@code exe}, {@code platformExe}, {@code env}, {@code name}, {@code licenses}, {@code labels}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + args.hashCode();
+    h += (h << 5) + Objects.hashCode(exe);
+    h += (h << 5) + platformExe.hashCode();
+    h += (h << 5) + env.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CommandAliasDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CommandAliasDescriptionArg")
+        .omitNullValues()
+        .add("args", args)
+        .add("exe", exe)
+        .add("platformExe", platformExe)
+        .add("env", env)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CommandAliasDescriptionArg instance
+   */
+  static CommandAliasDescriptionArg copyOf(CommandAliasDescription.AbstractCommandAliasDescriptionArg instance) {
+    if (instance instanceof CommandAliasDescriptionArg) {
+      return (CommandAliasDescriptionArg) instance;
+    }
+    return CommandAliasDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CommandAliasDescriptionArg CommandAliasDescriptionArg}.
+   * @return A new CommandAliasDescriptionArg builder
+   */
+  public static CommandAliasDescriptionArg.Builder builder() {
+    return new CommandAliasDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CommandAliasDescriptionArg CommandAliasDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableList.Builder<StringWithMacros> args = ImmutableList.builder();
+    private @Nullable BuildTarget exe;
+    private ImmutableSortedMap.Builder<Platform, BuildTarget> platformExe = ImmutableSortedMap.naturalOrder();
+    private ImmutableMap.Builder<String, StringWithMacros> env = ImmutableMap.builder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CommandAliasDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommandAliasDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCommandAliasDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(CommandAliasDescription.AbstractCommandAliasDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof CommandAliasDescription.AbstractCommandAliasDescriptionArg) {
+        CommandAliasDescription.AbstractCommandAliasDescriptionArg instance = (CommandAliasDescription.AbstractCommandAliasDescriptionArg) object;
+        addAllArgs(instance.getArgs());
+        putAllPlatformExe(instance.getPlatformExe());
+        Optional<BuildTarget> exeOptional = instance.getExe();
+        if (exeOptional.isPresent()) {
+          setExe(exeOptional);
+        }
+        putAllEnv(instance.getEnv());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Adds one element to {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getArgs() args} list.
+     * @param element A args element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addArgs(StringWithMacros element) {
+      this.args.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getArgs() args} list.
+     * @param elements An array of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addArgs(StringWithMacros... elements) {
+      this.args.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getArgs() args} list.
+     * @param elements An iterable of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setArgs(Iterable<? extends StringWithMacros> elements) {
+      this.args = ImmutableList.builder();
+      return addAllArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getArgs() args} list.
+     * @param elements An iterable of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllArgs(Iterable<? extends StringWithMacros> elements) {
+      this.args.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getExe() exe} to exe.
+     * @param exe The value for exe
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExe(BuildTarget exe) {
+      this.exe = Objects.requireNonNull(exe, "exe");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getExe() exe} to exe.
+     * @param exe The value for exe
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExe(Optional<? extends BuildTarget> exe) {
+      this.exe = exe.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getPlatformExe() platformExe} map.
+     * @param key The key in the platformExe map
+     * @param value The associated value in the platformExe map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putPlatformExe(Platform key, BuildTarget value) {
+      this.platformExe.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getPlatformExe() platformExe} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putPlatformExe(Map.Entry<? extends Platform, ? extends BuildTarget> entry) {
+      this.platformExe.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getPlatformExe() platformExe} map. Nulls are not permitted
+     * @param platformExe The entries that will be added to the platformExe map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformExe(Map<? extends Platform, ? extends BuildTarget> platformExe) {
+      this.platformExe = ImmutableSortedMap.naturalOrder();
+      return putAllPlatformExe(platformExe);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getPlatformExe() platformExe} map. Nulls are not permitted
+     * @param platformExe The entries that will be added to the platformExe map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllPlatformExe(Map<? extends Platform, ? extends BuildTarget> platformExe) {
+      this.platformExe.putAll(platformExe);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getEnv() env} map.
+     * @param key The key in the env map
+     * @param value The associated value in the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnv(String key, StringWithMacros value) {
+      this.env.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnv(Map.Entry<String, ? extends StringWithMacros> entry) {
+      this.env.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param env The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnv(Map<String, ? extends StringWithMacros> env) {
+      this.env = ImmutableMap.builder();
+      return putAllEnv(env);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param env The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllEnv(Map<String, ? extends StringWithMacros> env) {
+      this.env.putAll(env);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link CommandAliasDescription.AbstractCommandAliasDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CommandAliasDescriptionArg CommandAliasDescriptionArg}.
+     * @return An immutable instance of CommandAliasDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CommandAliasDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CommandAliasDescriptionArg(args.build(), exe, platformExe.build(), env.build(), name, licenses.build(), labels.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build CommandAliasDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
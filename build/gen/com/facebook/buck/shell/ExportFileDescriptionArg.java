@@ -0,0 +1,559 @@
+package com.facebook.buck.shell;
+
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ExportFileDescription.AbstractExportFileDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ExportFileDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ExportFileDescription.AbstractExportFileDescriptionArg"})
+@Immutable
+public final class ExportFileDescriptionArg
+    implements ExportFileDescription.AbstractExportFileDescriptionArg {
+  private final @Nullable SourcePath src;
+  private final @Nullable String out;
+  private final @Nullable ExportFileDescription.Mode mode;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+
+  private ExportFileDescriptionArg(
+      @Nullable SourcePath src,
+      @Nullable String out,
+      @Nullable ExportFileDescription.Mode mode,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels) {
+    this.src = src;
+    this.out = out;
+    this.mode = mode;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+  }
+
+  /**
+   * @return The value of the {@code src} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSrc() {
+    return Optional.ofNullable(src);
+  }
+
+  /**
+   * @return The value of the {@code out} attribute
+   */
+  @Override
+  public Optional<String> getOut() {
+    return Optional.ofNullable(out);
+  }
+
+  /**
+   * @return The value of the {@code mode} attribute
+   */
+  @Override
+  public Optional<ExportFileDescription.Mode> getMode() {
+    return Optional.ofNullable(mode);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ExportFileDescription.AbstractExportFileDescriptionArg#getSrc() src} attribute.
+   * @param value The value for src
+   * @return A modified copy of {@code this} object
+   */
+  public final ExportFileDescriptionArg withSrc(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "src");
+    if (this.src == newValue) return this;
+    return new ExportFileDescriptionArg(newValue, this.out, this.mode, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ExportFileDescription.AbstractExportFileDescriptionArg#getSrc() src} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for src
+   * @return A modified copy of {@code this} object
+   */
+  public final ExportFileDescriptionArg withSrc(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.src == value) return this;
+    return new ExportFileDescriptionArg(value, this.out, this.mode, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ExportFileDescription.AbstractExportFileDescriptionArg#getOut() out} attribute.
+   * @param value The value for out
+   * @return A modified copy of {@code this} object
+   */
+  public final ExportFileDescriptionArg withOut(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "out");
+    if (Objects.equals(this.out, newValue)) return this;
+    return new ExportFileDescriptionArg(this.src, newValue, this.mode, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ExportFileDescription.AbstractExportFileDescriptionArg#getOut() out} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for out
+   * @return A modified copy of {@code this} object
+   */
+  public final ExportFileDescriptionArg withOut(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.out, value)) return this;
+    return new ExportFileDescriptionArg(this.src, value, this.mode, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ExportFileDescription.AbstractExportFileDescriptionArg#getMode() mode} attribute.
+   * @param value The value for mode
+   * @return A modified copy of {@code this} object
+   */
+  public final ExportFileDescriptionArg withMode(ExportFileDescription.Mode value) {
+    @Nullable ExportFileDescription.Mode newValue = Objects.requireNonNull(value, "mode");
+    if (this.mode == newValue) return this;
+    return new ExportFileDescriptionArg(this.src, this.out, newValue, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ExportFileDescription.AbstractExportFileDescriptionArg#getMode() mode} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for mode
+   * @return A modified copy of {@code this} object
+   */
+  public final ExportFileDescriptionArg withMode(Optional<? extends ExportFileDescription.Mode> optional) {
+    @Nullable ExportFileDescription.Mode value = optional.orElse(null);
+    if (Objects.equals(this.mode, value)) return this;
+    return new ExportFileDescriptionArg(this.src, this.out, value, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExportFileDescription.AbstractExportFileDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExportFileDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new ExportFileDescriptionArg(this.src, this.out, this.mode, newValue, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ExportFileDescription.AbstractExportFileDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExportFileDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new ExportFileDescriptionArg(this.src, this.out, this.mode, this.name, newValue, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ExportFileDescription.AbstractExportFileDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExportFileDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new ExportFileDescriptionArg(this.src, this.out, this.mode, this.name, newValue, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ExportFileDescription.AbstractExportFileDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExportFileDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new ExportFileDescriptionArg(this.src, this.out, this.mode, this.name, this.licenses, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ExportFileDescription.AbstractExportFileDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExportFileDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new ExportFileDescriptionArg(this.src, this.out, this.mode, this.name, this.licenses, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ExportFileDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ExportFileDescriptionArg
+        && equalTo((ExportFileDescriptionArg) another);
+  }
+
+  private boolean equalTo(ExportFileDescriptionArg another) {
+    return Objects.equals(src, another.src)
+        && Objects.equals(out, another.out)
+        && Objects.equals(mode, another.mode)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code src}, {@code out}, {@code mode}, {@code name}, {@code licenses}, {@code labels}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(src);
+    h += (h << 5) + Objects.hashCode(out);
+    h += (h << 5) + Objects.hashCode(mode);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExportFileDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExportFileDescriptionArg")
+        .omitNullValues()
+        .add("src", src)
+        .add("out", out)
+        .add("mode", mode)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ExportFileDescription.AbstractExportFileDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ExportFileDescriptionArg instance
+   */
+  static ExportFileDescriptionArg copyOf(ExportFileDescription.AbstractExportFileDescriptionArg instance) {
+    if (instance instanceof ExportFileDescriptionArg) {
+      return (ExportFileDescriptionArg) instance;
+    }
+    return ExportFileDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ExportFileDescriptionArg ExportFileDescriptionArg}.
+   * @return A new ExportFileDescriptionArg builder
+   */
+  public static ExportFileDescriptionArg.Builder builder() {
+    return new ExportFileDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ExportFileDescriptionArg ExportFileDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable SourcePath src;
+    private @Nullable String out;
+    private @Nullable ExportFileDescription.Mode mode;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ExportFileDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ExportFileDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractExportFileDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ExportFileDescription.AbstractExportFileDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof ExportFileDescription.AbstractExportFileDescriptionArg) {
+        ExportFileDescription.AbstractExportFileDescriptionArg instance = (ExportFileDescription.AbstractExportFileDescriptionArg) object;
+        Optional<ExportFileDescription.Mode> modeOptional = instance.getMode();
+        if (modeOptional.isPresent()) {
+          setMode(modeOptional);
+        }
+        Optional<SourcePath> srcOptional = instance.getSrc();
+        if (srcOptional.isPresent()) {
+          setSrc(srcOptional);
+        }
+        Optional<String> outOptional = instance.getOut();
+        if (outOptional.isPresent()) {
+          setOut(outOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link ExportFileDescription.AbstractExportFileDescriptionArg#getSrc() src} to src.
+     * @param src The value for src
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSrc(SourcePath src) {
+      this.src = Objects.requireNonNull(src, "src");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExportFileDescription.AbstractExportFileDescriptionArg#getSrc() src} to src.
+     * @param src The value for src
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrc(Optional<? extends SourcePath> src) {
+      this.src = src.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExportFileDescription.AbstractExportFileDescriptionArg#getOut() out} to out.
+     * @param out The value for out
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOut(String out) {
+      this.out = Objects.requireNonNull(out, "out");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExportFileDescription.AbstractExportFileDescriptionArg#getOut() out} to out.
+     * @param out The value for out
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOut(Optional<String> out) {
+      this.out = out.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExportFileDescription.AbstractExportFileDescriptionArg#getMode() mode} to mode.
+     * @param mode The value for mode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMode(ExportFileDescription.Mode mode) {
+      this.mode = Objects.requireNonNull(mode, "mode");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExportFileDescription.AbstractExportFileDescriptionArg#getMode() mode} to mode.
+     * @param mode The value for mode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMode(Optional<? extends ExportFileDescription.Mode> mode) {
+      this.mode = mode.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExportFileDescription.AbstractExportFileDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link ExportFileDescription.AbstractExportFileDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ExportFileDescription.AbstractExportFileDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ExportFileDescription.AbstractExportFileDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link ExportFileDescription.AbstractExportFileDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ExportFileDescription.AbstractExportFileDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ExportFileDescription.AbstractExportFileDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ExportFileDescription.AbstractExportFileDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link ExportFileDescription.AbstractExportFileDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ExportFileDescriptionArg ExportFileDescriptionArg}.
+     * @return An immutable instance of ExportFileDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ExportFileDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ExportFileDescriptionArg(src, out, mode, name, licenses.build(), labels.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build ExportFileDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
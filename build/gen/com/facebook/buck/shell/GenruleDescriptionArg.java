@@ -0,0 +1,1149 @@
+package com.facebook.buck.shell;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasTests;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link GenruleDescription.AbstractGenruleDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code GenruleDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "GenruleDescription.AbstractGenruleDescriptionArg"})
+@Immutable
+public final class GenruleDescriptionArg
+    implements GenruleDescription.AbstractGenruleDescriptionArg {
+  private final @Nullable Boolean executable;
+  private final String out;
+  private final @Nullable String bash;
+  private final @Nullable String cmd;
+  private final @Nullable String cmdExe;
+  private final @Nullable String type;
+  private final ImmutableList<SourcePath> srcs;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> tests;
+
+  private GenruleDescriptionArg(
+      @Nullable Boolean executable,
+      String out,
+      @Nullable String bash,
+      @Nullable String cmd,
+      @Nullable String cmdExe,
+      @Nullable String type,
+      ImmutableList<SourcePath> srcs,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> tests) {
+    this.executable = executable;
+    this.out = out;
+    this.bash = bash;
+    this.cmd = cmd;
+    this.cmdExe = cmdExe;
+    this.type = type;
+    this.srcs = srcs;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.tests = tests;
+  }
+
+  /**
+   * @return The value of the {@code executable} attribute
+   */
+  @Override
+  public Optional<Boolean> getExecutable() {
+    return Optional.ofNullable(executable);
+  }
+
+  /**
+   * @return The value of the {@code out} attribute
+   */
+  @Override
+  public String getOut() {
+    return out;
+  }
+
+  /**
+   * @return The value of the {@code bash} attribute
+   */
+  @Override
+  public Optional<String> getBash() {
+    return Optional.ofNullable(bash);
+  }
+
+  /**
+   * @return The value of the {@code cmd} attribute
+   */
+  @Override
+  public Optional<String> getCmd() {
+    return Optional.ofNullable(cmd);
+  }
+
+  /**
+   * @return The value of the {@code cmdExe} attribute
+   */
+  @Override
+  public Optional<String> getCmdExe() {
+    return Optional.ofNullable(cmdExe);
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public Optional<String> getType() {
+    return Optional.ofNullable(type);
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableList<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link GenruleDescription.AbstractGenruleDescriptionArg#getExecutable() executable} attribute.
+   * @param value The value for executable
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withExecutable(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.executable, newValue)) return this;
+    return new GenruleDescriptionArg(
+        newValue,
+        this.out,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.type,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link GenruleDescription.AbstractGenruleDescriptionArg#getExecutable() executable} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for executable
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withExecutable(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.executable, value)) return this;
+    return new GenruleDescriptionArg(
+        value,
+        this.out,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.type,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link GenruleDescription.AbstractGenruleDescriptionArg#getOut() out} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for out
+   * @return A modified copy of the {@code this} object
+   */
+  public final GenruleDescriptionArg withOut(String value) {
+    if (this.out.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "out");
+    return new GenruleDescriptionArg(
+        this.executable,
+        newValue,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.type,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link GenruleDescription.AbstractGenruleDescriptionArg#getBash() bash} attribute.
+   * @param value The value for bash
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withBash(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "bash");
+    if (Objects.equals(this.bash, newValue)) return this;
+    return new GenruleDescriptionArg(
+        this.executable,
+        this.out,
+        newValue,
+        this.cmd,
+        this.cmdExe,
+        this.type,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link GenruleDescription.AbstractGenruleDescriptionArg#getBash() bash} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for bash
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withBash(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.bash, value)) return this;
+    return new GenruleDescriptionArg(
+        this.executable,
+        this.out,
+        value,
+        this.cmd,
+        this.cmdExe,
+        this.type,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link GenruleDescription.AbstractGenruleDescriptionArg#getCmd() cmd} attribute.
+   * @param value The value for cmd
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withCmd(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "cmd");
+    if (Objects.equals(this.cmd, newValue)) return this;
+    return new GenruleDescriptionArg(
+        this.executable,
+        this.out,
+        this.bash,
+        newValue,
+        this.cmdExe,
+        this.type,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link GenruleDescription.AbstractGenruleDescriptionArg#getCmd() cmd} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cmd
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withCmd(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.cmd, value)) return this;
+    return new GenruleDescriptionArg(
+        this.executable,
+        this.out,
+        this.bash,
+        value,
+        this.cmdExe,
+        this.type,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link GenruleDescription.AbstractGenruleDescriptionArg#getCmdExe() cmdExe} attribute.
+   * @param value The value for cmdExe
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withCmdExe(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "cmdExe");
+    if (Objects.equals(this.cmdExe, newValue)) return this;
+    return new GenruleDescriptionArg(
+        this.executable,
+        this.out,
+        this.bash,
+        this.cmd,
+        newValue,
+        this.type,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link GenruleDescription.AbstractGenruleDescriptionArg#getCmdExe() cmdExe} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cmdExe
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withCmdExe(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.cmdExe, value)) return this;
+    return new GenruleDescriptionArg(
+        this.executable,
+        this.out,
+        this.bash,
+        this.cmd,
+        value,
+        this.type,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link GenruleDescription.AbstractGenruleDescriptionArg#getType() type} attribute.
+   * @param value The value for type
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withType(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "type");
+    if (Objects.equals(this.type, newValue)) return this;
+    return new GenruleDescriptionArg(
+        this.executable,
+        this.out,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        newValue,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link GenruleDescription.AbstractGenruleDescriptionArg#getType() type} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for type
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withType(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.type, value)) return this;
+    return new GenruleDescriptionArg(
+        this.executable,
+        this.out,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        value,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GenruleDescription.AbstractGenruleDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withSrcs(SourcePath... elements) {
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new GenruleDescriptionArg(
+        this.executable,
+        this.out,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.type,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GenruleDescription.AbstractGenruleDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withSrcs(Iterable<? extends SourcePath> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new GenruleDescriptionArg(
+        this.executable,
+        this.out,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.type,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link GenruleDescription.AbstractGenruleDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final GenruleDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new GenruleDescriptionArg(
+        this.executable,
+        this.out,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.type,
+        this.srcs,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GenruleDescription.AbstractGenruleDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new GenruleDescriptionArg(
+        this.executable,
+        this.out,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.type,
+        this.srcs,
+        this.name,
+        newValue,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GenruleDescription.AbstractGenruleDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new GenruleDescriptionArg(
+        this.executable,
+        this.out,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.type,
+        this.srcs,
+        this.name,
+        newValue,
+        this.labels,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GenruleDescription.AbstractGenruleDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new GenruleDescriptionArg(
+        this.executable,
+        this.out,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.type,
+        this.srcs,
+        this.name,
+        this.licenses,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GenruleDescription.AbstractGenruleDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new GenruleDescriptionArg(
+        this.executable,
+        this.out,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.type,
+        this.srcs,
+        this.name,
+        this.licenses,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GenruleDescription.AbstractGenruleDescriptionArg#getTests() tests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new GenruleDescriptionArg(
+        this.executable,
+        this.out,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.type,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GenruleDescription.AbstractGenruleDescriptionArg#getTests() tests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of tests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenruleDescriptionArg withTests(Iterable<? extends BuildTarget> elements) {
+    if (this.tests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new GenruleDescriptionArg(
+        this.executable,
+        this.out,
+        this.bash,
+        this.cmd,
+        this.cmdExe,
+        this.type,
+        this.srcs,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code GenruleDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof GenruleDescriptionArg
+        && equalTo((GenruleDescriptionArg) another);
+  }
+
+  private boolean equalTo(GenruleDescriptionArg another) {
+    return Objects.equals(executable, another.executable)
+        && out.equals(another.out)
+        && Objects.equals(bash, another.bash)
+        && Objects.equals(cmd, another.cmd)
+        && Objects.equals(cmdExe, another.cmdExe)
+        && Objects.equals(type, another.type)
+        && srcs.equals(another.srcs)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && tests.equals(another.tests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code executable}, {@code out}, {@code bash}, {@code cmd}, {@code cmdExe}, {@code type}, {@code srcs}, {@code name}, {@code licenses}, {@code labels}, {@code tests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(executable);
+    h += (h << 5) + out.hashCode();
+    h += (h << 5) + Objects.hashCode(bash);
+    h += (h << 5) + Objects.hashCode(cmd);
+    h += (h << 5) + Objects.hashCode(cmdExe);
+    h += (h << 5) + Objects.hashCode(type);
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + tests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GenruleDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GenruleDescriptionArg")
+        .omitNullValues()
+        .add("executable", executable)
+        .add("out", out)
+        .add("bash", bash)
+        .add("cmd", cmd)
+        .add("cmdExe", cmdExe)
+        .add("type", type)
+        .add("srcs", srcs)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("tests", tests)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link GenruleDescription.AbstractGenruleDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable GenruleDescriptionArg instance
+   */
+  static GenruleDescriptionArg copyOf(GenruleDescription.AbstractGenruleDescriptionArg instance) {
+    if (instance instanceof GenruleDescriptionArg) {
+      return (GenruleDescriptionArg) instance;
+    }
+    return GenruleDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link GenruleDescriptionArg GenruleDescriptionArg}.
+   * @return A new GenruleDescriptionArg builder
+   */
+  public static GenruleDescriptionArg.Builder builder() {
+    return new GenruleDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link GenruleDescriptionArg GenruleDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_OUT = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable Boolean executable;
+    private @Nullable String out;
+    private @Nullable String bash;
+    private @Nullable String cmd;
+    private @Nullable String cmdExe;
+    private @Nullable String type;
+    private ImmutableList.Builder<SourcePath> srcs = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code GenruleDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(GenruleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractGenruleDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(GenruleDescription.AbstractGenruleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.shell.AbstractGenruleDescription.CommonArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AbstractGenruleDescription.CommonArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof GenruleDescription.AbstractGenruleDescriptionArg) {
+        GenruleDescription.AbstractGenruleDescriptionArg instance = (GenruleDescription.AbstractGenruleDescriptionArg) object;
+        Optional<Boolean> executableOptional = instance.getExecutable();
+        if (executableOptional.isPresent()) {
+          setExecutable(executableOptional);
+        }
+      }
+      if (object instanceof AbstractGenruleDescription.CommonArg) {
+        AbstractGenruleDescription.CommonArg instance = (AbstractGenruleDescription.CommonArg) object;
+        Optional<String> bashOptional = instance.getBash();
+        if (bashOptional.isPresent()) {
+          setBash(bashOptional);
+        }
+        addAllSrcs(instance.getSrcs());
+        Optional<String> cmdOptional = instance.getCmd();
+        if (cmdOptional.isPresent()) {
+          setCmd(cmdOptional);
+        }
+        Optional<String> typeOptional = instance.getType();
+        if (typeOptional.isPresent()) {
+          setType(typeOptional);
+        }
+        Optional<String> cmdExeOptional = instance.getCmdExe();
+        if (cmdExeOptional.isPresent()) {
+          setCmdExe(cmdExeOptional);
+        }
+        setOut(instance.getOut());
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link GenruleDescription.AbstractGenruleDescriptionArg#getExecutable() executable} to executable.
+     * @param executable The value for executable
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExecutable(boolean executable) {
+      this.executable = executable;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GenruleDescription.AbstractGenruleDescriptionArg#getExecutable() executable} to executable.
+     * @param executable The value for executable
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExecutable(Optional<Boolean> executable) {
+      this.executable = executable.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link GenruleDescription.AbstractGenruleDescriptionArg#getOut() out} attribute.
+     * @param out The value for out 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOut(String out) {
+      this.out = Objects.requireNonNull(out, "out");
+      initBits &= ~INIT_BIT_OUT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link GenruleDescription.AbstractGenruleDescriptionArg#getBash() bash} to bash.
+     * @param bash The value for bash
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBash(String bash) {
+      this.bash = Objects.requireNonNull(bash, "bash");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GenruleDescription.AbstractGenruleDescriptionArg#getBash() bash} to bash.
+     * @param bash The value for bash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBash(Optional<String> bash) {
+      this.bash = bash.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GenruleDescription.AbstractGenruleDescriptionArg#getCmd() cmd} to cmd.
+     * @param cmd The value for cmd
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCmd(String cmd) {
+      this.cmd = Objects.requireNonNull(cmd, "cmd");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GenruleDescription.AbstractGenruleDescriptionArg#getCmd() cmd} to cmd.
+     * @param cmd The value for cmd
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCmd(Optional<String> cmd) {
+      this.cmd = cmd.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GenruleDescription.AbstractGenruleDescriptionArg#getCmdExe() cmdExe} to cmdExe.
+     * @param cmdExe The value for cmdExe
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCmdExe(String cmdExe) {
+      this.cmdExe = Objects.requireNonNull(cmdExe, "cmdExe");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GenruleDescription.AbstractGenruleDescriptionArg#getCmdExe() cmdExe} to cmdExe.
+     * @param cmdExe The value for cmdExe
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCmdExe(Optional<String> cmdExe) {
+      this.cmdExe = cmdExe.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GenruleDescription.AbstractGenruleDescriptionArg#getType() type} to type.
+     * @param type The value for type
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setType(String type) {
+      this.type = Objects.requireNonNull(type, "type");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GenruleDescription.AbstractGenruleDescriptionArg#getType() type} to type.
+     * @param type The value for type
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setType(Optional<String> type) {
+      this.type = type.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GenruleDescription.AbstractGenruleDescriptionArg#getSrcs() srcs} list.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GenruleDescription.AbstractGenruleDescriptionArg#getSrcs() srcs} list.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GenruleDescription.AbstractGenruleDescriptionArg#getSrcs() srcs} list.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableList.builder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link GenruleDescription.AbstractGenruleDescriptionArg#getSrcs() srcs} list.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link GenruleDescription.AbstractGenruleDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link GenruleDescription.AbstractGenruleDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GenruleDescription.AbstractGenruleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GenruleDescription.AbstractGenruleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link GenruleDescription.AbstractGenruleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GenruleDescription.AbstractGenruleDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GenruleDescription.AbstractGenruleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GenruleDescription.AbstractGenruleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link GenruleDescription.AbstractGenruleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link GenruleDescription.AbstractGenruleDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link GenruleDescription.AbstractGenruleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link GenruleDescription.AbstractGenruleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link GenruleDescription.AbstractGenruleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link GenruleDescriptionArg GenruleDescriptionArg}.
+     * @return An immutable instance of GenruleDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public GenruleDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new GenruleDescriptionArg(
+          executable,
+          out,
+          bash,
+          cmd,
+          cmdExe,
+          type,
+          srcs.build(),
+          name,
+          licenses.build(),
+          labels.build(),
+          tests.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_OUT) != 0) attributes.add("out");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build GenruleDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,932 @@
+package com.facebook.buck.shell;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Either;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code WorkerToolDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "WorkerToolDescription.AbstractWorkerToolDescriptionArg"})
+@Immutable
+public final class WorkerToolDescriptionArg
+    implements WorkerToolDescription.AbstractWorkerToolDescriptionArg {
+  private final ImmutableMap<String, String> env;
+  private final Either<String, ImmutableList<String>> args;
+  private final @Nullable BuildTarget exe;
+  private final int maxWorkers;
+  private final int maxJobsPerWorker;
+  private final @Nullable Boolean persistent;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+
+  private WorkerToolDescriptionArg(WorkerToolDescriptionArg.Builder builder) {
+    this.env = builder.env.build();
+    this.exe = builder.exe;
+    this.persistent = builder.persistent;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    if (builder.args != null) {
+      initShim.setArgs(builder.args);
+    }
+    if (builder.maxWorkersIsSet()) {
+      initShim.setMaxWorkers(builder.maxWorkers);
+    }
+    if (builder.maxJobsPerWorkerIsSet()) {
+      initShim.setMaxJobsPerWorker(builder.maxJobsPerWorker);
+    }
+    this.args = initShim.getArgs();
+    this.maxWorkers = initShim.getMaxWorkers();
+    this.maxJobsPerWorker = initShim.getMaxJobsPerWorker();
+    this.initShim = null;
+  }
+
+  private WorkerToolDescriptionArg(
+      ImmutableMap<String, String> env,
+      Either<String, ImmutableList<String>> args,
+      @Nullable BuildTarget exe,
+      int maxWorkers,
+      int maxJobsPerWorker,
+      @Nullable Boolean persistent,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels) {
+    this.env = env;
+    this.args = args;
+    this.exe = exe;
+    this.maxWorkers = maxWorkers;
+    this.maxJobsPerWorker = maxJobsPerWorker;
+    this.persistent = persistent;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private Either<String, ImmutableList<String>> args;
+    private int argsBuildStage;
+
+    Either<String, ImmutableList<String>> getArgs() {
+      if (argsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (argsBuildStage == STAGE_UNINITIALIZED) {
+        argsBuildStage = STAGE_INITIALIZING;
+        this.args = Objects.requireNonNull(getArgsInitialize(), "args");
+        argsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.args;
+    }
+
+    void setArgs(Either<String, ImmutableList<String>> args) {
+      this.args = args;
+      argsBuildStage = STAGE_INITIALIZED;
+    }
+    private int maxWorkers;
+    private int maxWorkersBuildStage;
+
+    int getMaxWorkers() {
+      if (maxWorkersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (maxWorkersBuildStage == STAGE_UNINITIALIZED) {
+        maxWorkersBuildStage = STAGE_INITIALIZING;
+        this.maxWorkers = getMaxWorkersInitialize();
+        maxWorkersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.maxWorkers;
+    }
+
+    void setMaxWorkers(int maxWorkers) {
+      this.maxWorkers = maxWorkers;
+      maxWorkersBuildStage = STAGE_INITIALIZED;
+    }
+    private int maxJobsPerWorker;
+    private int maxJobsPerWorkerBuildStage;
+
+    int getMaxJobsPerWorker() {
+      if (maxJobsPerWorkerBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (maxJobsPerWorkerBuildStage == STAGE_UNINITIALIZED) {
+        maxJobsPerWorkerBuildStage = STAGE_INITIALIZING;
+        this.maxJobsPerWorker = getMaxJobsPerWorkerInitialize();
+        maxJobsPerWorkerBuildStage = STAGE_INITIALIZED;
+      }
+      return this.maxJobsPerWorker;
+    }
+
+    void setMaxJobsPerWorker(int maxJobsPerWorker) {
+      this.maxJobsPerWorker = maxJobsPerWorker;
+      maxJobsPerWorkerBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (argsBuildStage == STAGE_INITIALIZING) attributes.add("args");
+      if (maxWorkersBuildStage == STAGE_INITIALIZING) attributes.add("maxWorkers");
+      if (maxJobsPerWorkerBuildStage == STAGE_INITIALIZING) attributes.add("maxJobsPerWorker");
+      return "Cannot build WorkerToolDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private Either<String, ImmutableList<String>> getArgsInitialize() {
+    return WorkerToolDescription.AbstractWorkerToolDescriptionArg.super.getArgs();
+  }
+
+  private int getMaxWorkersInitialize() {
+    return WorkerToolDescription.AbstractWorkerToolDescriptionArg.super.getMaxWorkers();
+  }
+
+  private int getMaxJobsPerWorkerInitialize() {
+    return WorkerToolDescription.AbstractWorkerToolDescriptionArg.super.getMaxJobsPerWorker();
+  }
+
+  /**
+   * @return The value of the {@code env} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnv() {
+    return env;
+  }
+
+  /**
+   * @return The value of the {@code args} attribute
+   */
+  @Override
+  public Either<String, ImmutableList<String>> getArgs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getArgs()
+        : this.args;
+  }
+
+  /**
+   * @return The value of the {@code exe} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getExe() {
+    return Optional.ofNullable(exe);
+  }
+
+  /**
+   * @return The value of the {@code maxWorkers} attribute
+   */
+  @Override
+  public int getMaxWorkers() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMaxWorkers()
+        : this.maxWorkers;
+  }
+
+  /**
+   * @return The value of the {@code maxJobsPerWorker} attribute
+   */
+  @Override
+  public int getMaxJobsPerWorker() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMaxJobsPerWorker()
+        : this.maxJobsPerWorker;
+  }
+
+  /**
+   * @return The value of the {@code persistent} attribute
+   */
+  @Override
+  public Optional<Boolean> getPersistent() {
+    return Optional.ofNullable(persistent);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getEnv() env} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the env map
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerToolDescriptionArg withEnv(Map<String, ? extends String> entries) {
+    if (this.env == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new WorkerToolDescriptionArg(
+        newValue,
+        this.args,
+        this.exe,
+        this.maxWorkers,
+        this.maxJobsPerWorker,
+        this.persistent,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getArgs() args} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for args
+   * @return A modified copy of the {@code this} object
+   */
+  public final WorkerToolDescriptionArg withArgs(Either<String, ImmutableList<String>> value) {
+    if (this.args == value) return this;
+    Either<String, ImmutableList<String>> newValue = Objects.requireNonNull(value, "args");
+    return new WorkerToolDescriptionArg(
+        this.env,
+        newValue,
+        this.exe,
+        this.maxWorkers,
+        this.maxJobsPerWorker,
+        this.persistent,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getExe() exe} attribute.
+   * @param value The value for exe
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerToolDescriptionArg withExe(BuildTarget value) {
+    @Nullable BuildTarget newValue = Objects.requireNonNull(value, "exe");
+    if (this.exe == newValue) return this;
+    return new WorkerToolDescriptionArg(
+        this.env,
+        this.args,
+        newValue,
+        this.maxWorkers,
+        this.maxJobsPerWorker,
+        this.persistent,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getExe() exe} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for exe
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerToolDescriptionArg withExe(Optional<? extends BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.exe == value) return this;
+    return new WorkerToolDescriptionArg(
+        this.env,
+        this.args,
+        value,
+        this.maxWorkers,
+        this.maxJobsPerWorker,
+        this.persistent,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getMaxWorkers() maxWorkers} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for maxWorkers
+   * @return A modified copy of the {@code this} object
+   */
+  public final WorkerToolDescriptionArg withMaxWorkers(int value) {
+    if (this.maxWorkers == value) return this;
+    return new WorkerToolDescriptionArg(
+        this.env,
+        this.args,
+        this.exe,
+        value,
+        this.maxJobsPerWorker,
+        this.persistent,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getMaxJobsPerWorker() maxJobsPerWorker} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for maxJobsPerWorker
+   * @return A modified copy of the {@code this} object
+   */
+  public final WorkerToolDescriptionArg withMaxJobsPerWorker(int value) {
+    if (this.maxJobsPerWorker == value) return this;
+    return new WorkerToolDescriptionArg(
+        this.env,
+        this.args,
+        this.exe,
+        this.maxWorkers,
+        value,
+        this.persistent,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getPersistent() persistent} attribute.
+   * @param value The value for persistent
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerToolDescriptionArg withPersistent(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.persistent, newValue)) return this;
+    return new WorkerToolDescriptionArg(
+        this.env,
+        this.args,
+        this.exe,
+        this.maxWorkers,
+        this.maxJobsPerWorker,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getPersistent() persistent} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for persistent
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerToolDescriptionArg withPersistent(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.persistent, value)) return this;
+    return new WorkerToolDescriptionArg(
+        this.env,
+        this.args,
+        this.exe,
+        this.maxWorkers,
+        this.maxJobsPerWorker,
+        value,
+        this.name,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final WorkerToolDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new WorkerToolDescriptionArg(
+        this.env,
+        this.args,
+        this.exe,
+        this.maxWorkers,
+        this.maxJobsPerWorker,
+        this.persistent,
+        newValue,
+        this.licenses,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerToolDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new WorkerToolDescriptionArg(
+        this.env,
+        this.args,
+        this.exe,
+        this.maxWorkers,
+        this.maxJobsPerWorker,
+        this.persistent,
+        this.name,
+        newValue,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerToolDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new WorkerToolDescriptionArg(
+        this.env,
+        this.args,
+        this.exe,
+        this.maxWorkers,
+        this.maxJobsPerWorker,
+        this.persistent,
+        this.name,
+        newValue,
+        this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerToolDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new WorkerToolDescriptionArg(
+        this.env,
+        this.args,
+        this.exe,
+        this.maxWorkers,
+        this.maxJobsPerWorker,
+        this.persistent,
+        this.name,
+        this.licenses,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerToolDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new WorkerToolDescriptionArg(
+        this.env,
+        this.args,
+        this.exe,
+        this.maxWorkers,
+        this.maxJobsPerWorker,
+        this.persistent,
+        this.name,
+        this.licenses,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code WorkerToolDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof WorkerToolDescriptionArg
+        && equalTo((WorkerToolDescriptionArg) another);
+  }
+
+  private boolean equalTo(WorkerToolDescriptionArg another) {
+    return env.equals(another.env)
+        && args.equals(another.args)
+        && Objects.equals(exe, another.exe)
+        && maxWorkers == another.maxWorkers
+        && maxJobsPerWorker == another.maxJobsPerWorker
+        && Objects.equals(persistent, another.persistent)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code env}, {@code args}, {@code exe}, {@code maxWorkers}, {@code maxJobsPerWorker}, {@code persistent}, {@code name}, {@code licenses}, {@code labels}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + env.hashCode();
+    h += (h << 5) + args.hashCode();
+    h += (h << 5) + Objects.hashCode(exe);
+    h += (h << 5) + maxWorkers;
+    h += (h << 5) + maxJobsPerWorker;
+    h += (h << 5) + Objects.hashCode(persistent);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WorkerToolDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WorkerToolDescriptionArg")
+        .omitNullValues()
+        .add("env", env)
+        .add("args", args)
+        .add("exe", exe)
+        .add("maxWorkers", maxWorkers)
+        .add("maxJobsPerWorker", maxJobsPerWorker)
+        .add("persistent", persistent)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable WorkerToolDescriptionArg instance
+   */
+  static WorkerToolDescriptionArg copyOf(WorkerToolDescription.AbstractWorkerToolDescriptionArg instance) {
+    if (instance instanceof WorkerToolDescriptionArg) {
+      return (WorkerToolDescriptionArg) instance;
+    }
+    return WorkerToolDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link WorkerToolDescriptionArg WorkerToolDescriptionArg}.
+   * @return A new WorkerToolDescriptionArg builder
+   */
+  public static WorkerToolDescriptionArg.Builder builder() {
+    return new WorkerToolDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link WorkerToolDescriptionArg WorkerToolDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_MAX_WORKERS = 0x1L;
+    private static final long OPT_BIT_MAX_JOBS_PER_WORKER = 0x2L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private ImmutableMap.Builder<String, String> env = ImmutableMap.builder();
+    private @Nullable Either<String, ImmutableList<String>> args;
+    private @Nullable BuildTarget exe;
+    private int maxWorkers;
+    private int maxJobsPerWorker;
+    private @Nullable Boolean persistent;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code WorkerToolDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(WorkerToolDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractWorkerToolDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(WorkerToolDescription.AbstractWorkerToolDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof WorkerToolDescription.AbstractWorkerToolDescriptionArg) {
+        WorkerToolDescription.AbstractWorkerToolDescriptionArg instance = (WorkerToolDescription.AbstractWorkerToolDescriptionArg) object;
+        setArgs(instance.getArgs());
+        setMaxWorkers(instance.getMaxWorkers());
+        Optional<BuildTarget> exeOptional = instance.getExe();
+        if (exeOptional.isPresent()) {
+          setExe(exeOptional);
+        }
+        putAllEnv(instance.getEnv());
+        setMaxJobsPerWorker(instance.getMaxJobsPerWorker());
+        Optional<Boolean> persistentOptional = instance.getPersistent();
+        if (persistentOptional.isPresent()) {
+          setPersistent(persistentOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Put one entry to the {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getEnv() env} map.
+     * @param key The key in the env map
+     * @param value The associated value in the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnv(String key, String value) {
+      this.env.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnv(Map.Entry<String, ? extends String> entry) {
+      this.env.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param env The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnv(Map<String, ? extends String> env) {
+      this.env = ImmutableMap.builder();
+      return putAllEnv(env);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param env The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllEnv(Map<String, ? extends String> env) {
+      this.env.putAll(env);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getArgs() args} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getArgs() args}.</em>
+     * @param args The value for args 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setArgs(Either<String, ImmutableList<String>> args) {
+      this.args = Objects.requireNonNull(args, "args");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getExe() exe} to exe.
+     * @param exe The value for exe
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExe(BuildTarget exe) {
+      this.exe = Objects.requireNonNull(exe, "exe");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getExe() exe} to exe.
+     * @param exe The value for exe
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExe(Optional<? extends BuildTarget> exe) {
+      this.exe = exe.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getMaxWorkers() maxWorkers} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getMaxWorkers() maxWorkers}.</em>
+     * @param maxWorkers The value for maxWorkers 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMaxWorkers(int maxWorkers) {
+      this.maxWorkers = maxWorkers;
+      optBits |= OPT_BIT_MAX_WORKERS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getMaxJobsPerWorker() maxJobsPerWorker} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getMaxJobsPerWorker() maxJobsPerWorker}.</em>
+     * @param maxJobsPerWorker The value for maxJobsPerWorker 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMaxJobsPerWorker(int maxJobsPerWorker) {
+      this.maxJobsPerWorker = maxJobsPerWorker;
+      optBits |= OPT_BIT_MAX_JOBS_PER_WORKER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getPersistent() persistent} to persistent.
+     * @param persistent The value for persistent
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPersistent(boolean persistent) {
+      this.persistent = persistent;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getPersistent() persistent} to persistent.
+     * @param persistent The value for persistent
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPersistent(Optional<Boolean> persistent) {
+      this.persistent = persistent.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link WorkerToolDescriptionArg WorkerToolDescriptionArg}.
+     * @return An immutable instance of WorkerToolDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public WorkerToolDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new WorkerToolDescriptionArg(this);
+    }
+
+    private boolean maxWorkersIsSet() {
+      return (optBits & OPT_BIT_MAX_WORKERS) != 0;
+    }
+
+    private boolean maxJobsPerWorkerIsSet() {
+      return (optBits & OPT_BIT_MAX_JOBS_PER_WORKER) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build WorkerToolDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package com.facebook.buck.skylark.packages;
+
+import com.facebook.buck.skylark.io.Globber;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Exposes package information to Skylark functions. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPackageContext"})
+@Immutable
+public final class PackageContext extends AbstractPackageContext {
+  private final Globber globber;
+
+  private PackageContext(Globber globber) {
+    this.globber = globber;
+  }
+
+  /**
+   *Returns a globber instance that can resolve paths relative to current package. 
+   */
+  @Override
+  public Globber getGlobber() {
+    return globber;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPackageContext#getGlobber() globber} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for globber
+   * @return A modified copy of the {@code this} object
+   */
+  public final PackageContext withGlobber(Globber value) {
+    if (this.globber == value) return this;
+    Globber newValue = Objects.requireNonNull(value, "globber");
+    return new PackageContext(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PackageContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PackageContext
+        && equalTo((PackageContext) another);
+  }
+
+  private boolean equalTo(PackageContext another) {
+    return globber.equals(another.globber);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code globber}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + globber.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PackageContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PackageContext")
+        .omitNullValues()
+        .add("globber", globber)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractPackageContext} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PackageContext instance
+   */
+  static PackageContext copyOf(AbstractPackageContext instance) {
+    if (instance instanceof PackageContext) {
+      return (PackageContext) instance;
+    }
+    return PackageContext.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PackageContext PackageContext}.
+   * @return A new PackageContext builder
+   */
+  public static PackageContext.Builder builder() {
+    return new PackageContext.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PackageContext PackageContext}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_GLOBBER = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable Globber globber;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PackageContext} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PackageContext instance) {
+      return from((AbstractPackageContext) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPackageContext} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractPackageContext instance) {
+      Objects.requireNonNull(instance, "instance");
+      setGlobber(instance.getGlobber());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPackageContext#getGlobber() globber} attribute.
+     * @param globber The value for globber 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGlobber(Globber globber) {
+      this.globber = Objects.requireNonNull(globber, "globber");
+      initBits &= ~INIT_BIT_GLOBBER;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link PackageContext PackageContext}.
+     * @return An immutable instance of PackageContext
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PackageContext build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PackageContext(globber);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_GLOBBER) != 0) attributes.add("globber");
+      return "Cannot build PackageContext, some of required attributes are not set " + attributes;
+    }
+  }
+}
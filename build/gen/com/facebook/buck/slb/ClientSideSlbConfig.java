@@ -0,0 +1,927 @@
+package com.facebook.buck.slb;
+
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.timing.Clock;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Floats;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractClientSideSlbConfig}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ClientSideSlbConfig.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractClientSideSlbConfig"})
+@Immutable
+public final class ClientSideSlbConfig extends AbstractClientSideSlbConfig {
+  private final Clock clock;
+  private final ImmutableList<URI> serverPool;
+  private final BuckEventBus eventBus;
+  private final int errorCheckTimeRangeMillis;
+  private final int latencyCheckTimeRangeMillis;
+  private final int maxAcceptableLatencyMillis;
+  private final int connectionTimeoutMillis;
+  private final int healthCheckIntervalMillis;
+  private final String pingEndpoint;
+  private final float maxErrorPercentage;
+
+  private ClientSideSlbConfig(ClientSideSlbConfig.Builder builder) {
+    this.clock = builder.clock;
+    this.serverPool = builder.serverPool.build();
+    this.eventBus = builder.eventBus;
+    if (builder.errorCheckTimeRangeMillisIsSet()) {
+      initShim.setErrorCheckTimeRangeMillis(builder.errorCheckTimeRangeMillis);
+    }
+    if (builder.latencyCheckTimeRangeMillisIsSet()) {
+      initShim.setLatencyCheckTimeRangeMillis(builder.latencyCheckTimeRangeMillis);
+    }
+    if (builder.maxAcceptableLatencyMillisIsSet()) {
+      initShim.setMaxAcceptableLatencyMillis(builder.maxAcceptableLatencyMillis);
+    }
+    if (builder.connectionTimeoutMillisIsSet()) {
+      initShim.setConnectionTimeoutMillis(builder.connectionTimeoutMillis);
+    }
+    if (builder.healthCheckIntervalMillisIsSet()) {
+      initShim.setHealthCheckIntervalMillis(builder.healthCheckIntervalMillis);
+    }
+    if (builder.pingEndpoint != null) {
+      initShim.setPingEndpoint(builder.pingEndpoint);
+    }
+    if (builder.maxErrorPercentageIsSet()) {
+      initShim.setMaxErrorPercentage(builder.maxErrorPercentage);
+    }
+    this.errorCheckTimeRangeMillis = initShim.getErrorCheckTimeRangeMillis();
+    this.latencyCheckTimeRangeMillis = initShim.getLatencyCheckTimeRangeMillis();
+    this.maxAcceptableLatencyMillis = initShim.getMaxAcceptableLatencyMillis();
+    this.connectionTimeoutMillis = initShim.getConnectionTimeoutMillis();
+    this.healthCheckIntervalMillis = initShim.getHealthCheckIntervalMillis();
+    this.pingEndpoint = initShim.getPingEndpoint();
+    this.maxErrorPercentage = initShim.getMaxErrorPercentage();
+    this.initShim = null;
+  }
+
+  private ClientSideSlbConfig(
+      Clock clock,
+      ImmutableList<URI> serverPool,
+      BuckEventBus eventBus,
+      int errorCheckTimeRangeMillis,
+      int latencyCheckTimeRangeMillis,
+      int maxAcceptableLatencyMillis,
+      int connectionTimeoutMillis,
+      int healthCheckIntervalMillis,
+      String pingEndpoint,
+      float maxErrorPercentage) {
+    this.clock = clock;
+    this.serverPool = serverPool;
+    this.eventBus = eventBus;
+    this.errorCheckTimeRangeMillis = errorCheckTimeRangeMillis;
+    this.latencyCheckTimeRangeMillis = latencyCheckTimeRangeMillis;
+    this.maxAcceptableLatencyMillis = maxAcceptableLatencyMillis;
+    this.connectionTimeoutMillis = connectionTimeoutMillis;
+    this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+    this.pingEndpoint = pingEndpoint;
+    this.maxErrorPercentage = maxErrorPercentage;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private int errorCheckTimeRangeMillis;
+    private int errorCheckTimeRangeMillisBuildStage;
+
+    int getErrorCheckTimeRangeMillis() {
+      if (errorCheckTimeRangeMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (errorCheckTimeRangeMillisBuildStage == STAGE_UNINITIALIZED) {
+        errorCheckTimeRangeMillisBuildStage = STAGE_INITIALIZING;
+        this.errorCheckTimeRangeMillis = ClientSideSlbConfig.super.getErrorCheckTimeRangeMillis();
+        errorCheckTimeRangeMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.errorCheckTimeRangeMillis;
+    }
+
+    void setErrorCheckTimeRangeMillis(int errorCheckTimeRangeMillis) {
+      this.errorCheckTimeRangeMillis = errorCheckTimeRangeMillis;
+      errorCheckTimeRangeMillisBuildStage = STAGE_INITIALIZED;
+    }
+    private int latencyCheckTimeRangeMillis;
+    private int latencyCheckTimeRangeMillisBuildStage;
+
+    int getLatencyCheckTimeRangeMillis() {
+      if (latencyCheckTimeRangeMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (latencyCheckTimeRangeMillisBuildStage == STAGE_UNINITIALIZED) {
+        latencyCheckTimeRangeMillisBuildStage = STAGE_INITIALIZING;
+        this.latencyCheckTimeRangeMillis = ClientSideSlbConfig.super.getLatencyCheckTimeRangeMillis();
+        latencyCheckTimeRangeMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.latencyCheckTimeRangeMillis;
+    }
+
+    void setLatencyCheckTimeRangeMillis(int latencyCheckTimeRangeMillis) {
+      this.latencyCheckTimeRangeMillis = latencyCheckTimeRangeMillis;
+      latencyCheckTimeRangeMillisBuildStage = STAGE_INITIALIZED;
+    }
+    private int maxAcceptableLatencyMillis;
+    private int maxAcceptableLatencyMillisBuildStage;
+
+    int getMaxAcceptableLatencyMillis() {
+      if (maxAcceptableLatencyMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (maxAcceptableLatencyMillisBuildStage == STAGE_UNINITIALIZED) {
+        maxAcceptableLatencyMillisBuildStage = STAGE_INITIALIZING;
+        this.maxAcceptableLatencyMillis = ClientSideSlbConfig.super.getMaxAcceptableLatencyMillis();
+        maxAcceptableLatencyMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.maxAcceptableLatencyMillis;
+    }
+
+    void setMaxAcceptableLatencyMillis(int maxAcceptableLatencyMillis) {
+      this.maxAcceptableLatencyMillis = maxAcceptableLatencyMillis;
+      maxAcceptableLatencyMillisBuildStage = STAGE_INITIALIZED;
+    }
+    private int connectionTimeoutMillis;
+    private int connectionTimeoutMillisBuildStage;
+
+    int getConnectionTimeoutMillis() {
+      if (connectionTimeoutMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (connectionTimeoutMillisBuildStage == STAGE_UNINITIALIZED) {
+        connectionTimeoutMillisBuildStage = STAGE_INITIALIZING;
+        this.connectionTimeoutMillis = ClientSideSlbConfig.super.getConnectionTimeoutMillis();
+        connectionTimeoutMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.connectionTimeoutMillis;
+    }
+
+    void setConnectionTimeoutMillis(int connectionTimeoutMillis) {
+      this.connectionTimeoutMillis = connectionTimeoutMillis;
+      connectionTimeoutMillisBuildStage = STAGE_INITIALIZED;
+    }
+    private int healthCheckIntervalMillis;
+    private int healthCheckIntervalMillisBuildStage;
+
+    int getHealthCheckIntervalMillis() {
+      if (healthCheckIntervalMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (healthCheckIntervalMillisBuildStage == STAGE_UNINITIALIZED) {
+        healthCheckIntervalMillisBuildStage = STAGE_INITIALIZING;
+        this.healthCheckIntervalMillis = ClientSideSlbConfig.super.getHealthCheckIntervalMillis();
+        healthCheckIntervalMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.healthCheckIntervalMillis;
+    }
+
+    void setHealthCheckIntervalMillis(int healthCheckIntervalMillis) {
+      this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+      healthCheckIntervalMillisBuildStage = STAGE_INITIALIZED;
+    }
+    private String pingEndpoint;
+    private int pingEndpointBuildStage;
+
+    String getPingEndpoint() {
+      if (pingEndpointBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (pingEndpointBuildStage == STAGE_UNINITIALIZED) {
+        pingEndpointBuildStage = STAGE_INITIALIZING;
+        this.pingEndpoint = Objects.requireNonNull(ClientSideSlbConfig.super.getPingEndpoint(), "pingEndpoint");
+        pingEndpointBuildStage = STAGE_INITIALIZED;
+      }
+      return this.pingEndpoint;
+    }
+
+    void setPingEndpoint(String pingEndpoint) {
+      this.pingEndpoint = pingEndpoint;
+      pingEndpointBuildStage = STAGE_INITIALIZED;
+    }
+    private float maxErrorPercentage;
+    private int maxErrorPercentageBuildStage;
+
+    float getMaxErrorPercentage() {
+      if (maxErrorPercentageBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (maxErrorPercentageBuildStage == STAGE_UNINITIALIZED) {
+        maxErrorPercentageBuildStage = STAGE_INITIALIZING;
+        this.maxErrorPercentage = ClientSideSlbConfig.super.getMaxErrorPercentage();
+        maxErrorPercentageBuildStage = STAGE_INITIALIZED;
+      }
+      return this.maxErrorPercentage;
+    }
+
+    void setMaxErrorPercentage(float maxErrorPercentage) {
+      this.maxErrorPercentage = maxErrorPercentage;
+      maxErrorPercentageBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (errorCheckTimeRangeMillisBuildStage == STAGE_INITIALIZING) attributes.add("errorCheckTimeRangeMillis");
+      if (latencyCheckTimeRangeMillisBuildStage == STAGE_INITIALIZING) attributes.add("latencyCheckTimeRangeMillis");
+      if (maxAcceptableLatencyMillisBuildStage == STAGE_INITIALIZING) attributes.add("maxAcceptableLatencyMillis");
+      if (connectionTimeoutMillisBuildStage == STAGE_INITIALIZING) attributes.add("connectionTimeoutMillis");
+      if (healthCheckIntervalMillisBuildStage == STAGE_INITIALIZING) attributes.add("healthCheckIntervalMillis");
+      if (pingEndpointBuildStage == STAGE_INITIALIZING) attributes.add("pingEndpoint");
+      if (maxErrorPercentageBuildStage == STAGE_INITIALIZING) attributes.add("maxErrorPercentage");
+      return "Cannot build ClientSideSlbConfig, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code clock} attribute
+   */
+  @Override
+  public Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * @return The value of the {@code serverPool} attribute
+   */
+  @Override
+  public ImmutableList<URI> getServerPool() {
+    return serverPool;
+  }
+
+  /**
+   * @return The value of the {@code eventBus} attribute
+   */
+  @Override
+  public BuckEventBus getEventBus() {
+    return eventBus;
+  }
+
+  /**
+   * @return The value of the {@code errorCheckTimeRangeMillis} attribute
+   */
+  @Override
+  public int getErrorCheckTimeRangeMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getErrorCheckTimeRangeMillis()
+        : this.errorCheckTimeRangeMillis;
+  }
+
+  /**
+   * @return The value of the {@code latencyCheckTimeRangeMillis} attribute
+   */
+  @Override
+  public int getLatencyCheckTimeRangeMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLatencyCheckTimeRangeMillis()
+        : this.latencyCheckTimeRangeMillis;
+  }
+
+  /**
+   * @return The value of the {@code maxAcceptableLatencyMillis} attribute
+   */
+  @Override
+  public int getMaxAcceptableLatencyMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMaxAcceptableLatencyMillis()
+        : this.maxAcceptableLatencyMillis;
+  }
+
+  /**
+   * @return The value of the {@code connectionTimeoutMillis} attribute
+   */
+  @Override
+  public int getConnectionTimeoutMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getConnectionTimeoutMillis()
+        : this.connectionTimeoutMillis;
+  }
+
+  /**
+   * @return The value of the {@code healthCheckIntervalMillis} attribute
+   */
+  @Override
+  public int getHealthCheckIntervalMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getHealthCheckIntervalMillis()
+        : this.healthCheckIntervalMillis;
+  }
+
+  /**
+   * @return The value of the {@code pingEndpoint} attribute
+   */
+  @Override
+  public String getPingEndpoint() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPingEndpoint()
+        : this.pingEndpoint;
+  }
+
+  /**
+   * @return The value of the {@code maxErrorPercentage} attribute
+   */
+  @Override
+  public float getMaxErrorPercentage() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMaxErrorPercentage()
+        : this.maxErrorPercentage;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractClientSideSlbConfig#getClock() clock} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for clock
+   * @return A modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withClock(Clock value) {
+    if (this.clock == value) return this;
+    Clock newValue = Objects.requireNonNull(value, "clock");
+    return new ClientSideSlbConfig(
+        newValue,
+        this.serverPool,
+        this.eventBus,
+        this.errorCheckTimeRangeMillis,
+        this.latencyCheckTimeRangeMillis,
+        this.maxAcceptableLatencyMillis,
+        this.connectionTimeoutMillis,
+        this.healthCheckIntervalMillis,
+        this.pingEndpoint,
+        this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractClientSideSlbConfig#getServerPool() serverPool}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ClientSideSlbConfig withServerPool(URI... elements) {
+    ImmutableList<URI> newValue = ImmutableList.copyOf(elements);
+    return new ClientSideSlbConfig(
+        this.clock,
+        newValue,
+        this.eventBus,
+        this.errorCheckTimeRangeMillis,
+        this.latencyCheckTimeRangeMillis,
+        this.maxAcceptableLatencyMillis,
+        this.connectionTimeoutMillis,
+        this.healthCheckIntervalMillis,
+        this.pingEndpoint,
+        this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractClientSideSlbConfig#getServerPool() serverPool}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of serverPool elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ClientSideSlbConfig withServerPool(Iterable<? extends URI> elements) {
+    if (this.serverPool == elements) return this;
+    ImmutableList<URI> newValue = ImmutableList.copyOf(elements);
+    return new ClientSideSlbConfig(
+        this.clock,
+        newValue,
+        this.eventBus,
+        this.errorCheckTimeRangeMillis,
+        this.latencyCheckTimeRangeMillis,
+        this.maxAcceptableLatencyMillis,
+        this.connectionTimeoutMillis,
+        this.healthCheckIntervalMillis,
+        this.pingEndpoint,
+        this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractClientSideSlbConfig#getEventBus() eventBus} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for eventBus
+   * @return A modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withEventBus(BuckEventBus value) {
+    if (this.eventBus == value) return this;
+    BuckEventBus newValue = Objects.requireNonNull(value, "eventBus");
+    return new ClientSideSlbConfig(
+        this.clock,
+        this.serverPool,
+        newValue,
+        this.errorCheckTimeRangeMillis,
+        this.latencyCheckTimeRangeMillis,
+        this.maxAcceptableLatencyMillis,
+        this.connectionTimeoutMillis,
+        this.healthCheckIntervalMillis,
+        this.pingEndpoint,
+        this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractClientSideSlbConfig#getErrorCheckTimeRangeMillis() errorCheckTimeRangeMillis} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for errorCheckTimeRangeMillis
+   * @return A modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withErrorCheckTimeRangeMillis(int value) {
+    if (this.errorCheckTimeRangeMillis == value) return this;
+    return new ClientSideSlbConfig(
+        this.clock,
+        this.serverPool,
+        this.eventBus,
+        value,
+        this.latencyCheckTimeRangeMillis,
+        this.maxAcceptableLatencyMillis,
+        this.connectionTimeoutMillis,
+        this.healthCheckIntervalMillis,
+        this.pingEndpoint,
+        this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractClientSideSlbConfig#getLatencyCheckTimeRangeMillis() latencyCheckTimeRangeMillis} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for latencyCheckTimeRangeMillis
+   * @return A modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withLatencyCheckTimeRangeMillis(int value) {
+    if (this.latencyCheckTimeRangeMillis == value) return this;
+    return new ClientSideSlbConfig(
+        this.clock,
+        this.serverPool,
+        this.eventBus,
+        this.errorCheckTimeRangeMillis,
+        value,
+        this.maxAcceptableLatencyMillis,
+        this.connectionTimeoutMillis,
+        this.healthCheckIntervalMillis,
+        this.pingEndpoint,
+        this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractClientSideSlbConfig#getMaxAcceptableLatencyMillis() maxAcceptableLatencyMillis} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for maxAcceptableLatencyMillis
+   * @return A modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withMaxAcceptableLatencyMillis(int value) {
+    if (this.maxAcceptableLatencyMillis == value) return this;
+    return new ClientSideSlbConfig(
+        this.clock,
+        this.serverPool,
+        this.eventBus,
+        this.errorCheckTimeRangeMillis,
+        this.latencyCheckTimeRangeMillis,
+        value,
+        this.connectionTimeoutMillis,
+        this.healthCheckIntervalMillis,
+        this.pingEndpoint,
+        this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractClientSideSlbConfig#getConnectionTimeoutMillis() connectionTimeoutMillis} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for connectionTimeoutMillis
+   * @return A modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withConnectionTimeoutMillis(int value) {
+    if (this.connectionTimeoutMillis == value) return this;
+    return new ClientSideSlbConfig(
+        this.clock,
+        this.serverPool,
+        this.eventBus,
+        this.errorCheckTimeRangeMillis,
+        this.latencyCheckTimeRangeMillis,
+        this.maxAcceptableLatencyMillis,
+        value,
+        this.healthCheckIntervalMillis,
+        this.pingEndpoint,
+        this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractClientSideSlbConfig#getHealthCheckIntervalMillis() healthCheckIntervalMillis} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for healthCheckIntervalMillis
+   * @return A modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withHealthCheckIntervalMillis(int value) {
+    if (this.healthCheckIntervalMillis == value) return this;
+    return new ClientSideSlbConfig(
+        this.clock,
+        this.serverPool,
+        this.eventBus,
+        this.errorCheckTimeRangeMillis,
+        this.latencyCheckTimeRangeMillis,
+        this.maxAcceptableLatencyMillis,
+        this.connectionTimeoutMillis,
+        value,
+        this.pingEndpoint,
+        this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractClientSideSlbConfig#getPingEndpoint() pingEndpoint} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for pingEndpoint
+   * @return A modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withPingEndpoint(String value) {
+    if (this.pingEndpoint.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "pingEndpoint");
+    return new ClientSideSlbConfig(
+        this.clock,
+        this.serverPool,
+        this.eventBus,
+        this.errorCheckTimeRangeMillis,
+        this.latencyCheckTimeRangeMillis,
+        this.maxAcceptableLatencyMillis,
+        this.connectionTimeoutMillis,
+        this.healthCheckIntervalMillis,
+        newValue,
+        this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractClientSideSlbConfig#getMaxErrorPercentage() maxErrorPercentage} attribute.
+   * A value strict bits equality used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for maxErrorPercentage
+   * @return A modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withMaxErrorPercentage(float value) {
+    if (Float.floatToIntBits(this.maxErrorPercentage) == Float.floatToIntBits(value)) return this;
+    return new ClientSideSlbConfig(
+        this.clock,
+        this.serverPool,
+        this.eventBus,
+        this.errorCheckTimeRangeMillis,
+        this.latencyCheckTimeRangeMillis,
+        this.maxAcceptableLatencyMillis,
+        this.connectionTimeoutMillis,
+        this.healthCheckIntervalMillis,
+        this.pingEndpoint,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ClientSideSlbConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ClientSideSlbConfig
+        && equalTo((ClientSideSlbConfig) another);
+  }
+
+  private boolean equalTo(ClientSideSlbConfig another) {
+    return clock.equals(another.clock)
+        && serverPool.equals(another.serverPool)
+        && eventBus.equals(another.eventBus)
+        && errorCheckTimeRangeMillis == another.errorCheckTimeRangeMillis
+        && latencyCheckTimeRangeMillis == another.latencyCheckTimeRangeMillis
+        && maxAcceptableLatencyMillis == another.maxAcceptableLatencyMillis
+        && connectionTimeoutMillis == another.connectionTimeoutMillis
+        && healthCheckIntervalMillis == another.healthCheckIntervalMillis
+        && pingEndpoint.equals(another.pingEndpoint)
+        && Float.floatToIntBits(maxErrorPercentage) == Float.floatToIntBits(another.maxErrorPercentage);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code clock}, {@code serverPool}, {@code eventBus}, {@code errorCheckTimeRangeMillis}, {@code latencyCheckTimeRangeMillis}, {@code maxAcceptableLatencyMillis}, {@code connectionTimeoutMillis}, {@code healthCheckIntervalMillis}, {@code pingEndpoint}, {@code maxErrorPercentage}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + clock.hashCode();
+    h += (h << 5) + serverPool.hashCode();
+    h += (h << 5) + eventBus.hashCode();
+    h += (h << 5) + errorCheckTimeRangeMillis;
+    h += (h << 5) + latencyCheckTimeRangeMillis;
+    h += (h << 5) + maxAcceptableLatencyMillis;
+    h += (h << 5) + connectionTimeoutMillis;
+    h += (h << 5) + healthCheckIntervalMillis;
+    h += (h << 5) + pingEndpoint.hashCode();
+    h += (h << 5) + Floats.hashCode(maxErrorPercentage);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ClientSideSlbConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ClientSideSlbConfig")
+        .omitNullValues()
+        .add("clock", clock)
+        .add("serverPool", serverPool)
+        .add("eventBus", eventBus)
+        .add("errorCheckTimeRangeMillis", errorCheckTimeRangeMillis)
+        .add("latencyCheckTimeRangeMillis", latencyCheckTimeRangeMillis)
+        .add("maxAcceptableLatencyMillis", maxAcceptableLatencyMillis)
+        .add("connectionTimeoutMillis", connectionTimeoutMillis)
+        .add("healthCheckIntervalMillis", healthCheckIntervalMillis)
+        .add("pingEndpoint", pingEndpoint)
+        .add("maxErrorPercentage", maxErrorPercentage)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractClientSideSlbConfig} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ClientSideSlbConfig instance
+   */
+  static ClientSideSlbConfig copyOf(AbstractClientSideSlbConfig instance) {
+    if (instance instanceof ClientSideSlbConfig) {
+      return (ClientSideSlbConfig) instance;
+    }
+    return ClientSideSlbConfig.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ClientSideSlbConfig ClientSideSlbConfig}.
+   * @return A new ClientSideSlbConfig builder
+   */
+  public static ClientSideSlbConfig.Builder builder() {
+    return new ClientSideSlbConfig.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ClientSideSlbConfig ClientSideSlbConfig}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CLOCK = 0x1L;
+    private static final long INIT_BIT_EVENT_BUS = 0x2L;
+    private static final long OPT_BIT_ERROR_CHECK_TIME_RANGE_MILLIS = 0x1L;
+    private static final long OPT_BIT_LATENCY_CHECK_TIME_RANGE_MILLIS = 0x2L;
+    private static final long OPT_BIT_MAX_ACCEPTABLE_LATENCY_MILLIS = 0x4L;
+    private static final long OPT_BIT_CONNECTION_TIMEOUT_MILLIS = 0x8L;
+    private static final long OPT_BIT_HEALTH_CHECK_INTERVAL_MILLIS = 0x10L;
+    private static final long OPT_BIT_MAX_ERROR_PERCENTAGE = 0x20L;
+    private long initBits = 0x3L;
+    private long optBits;
+
+    private @Nullable Clock clock;
+    private ImmutableList.Builder<URI> serverPool = ImmutableList.builder();
+    private @Nullable BuckEventBus eventBus;
+    private int errorCheckTimeRangeMillis;
+    private int latencyCheckTimeRangeMillis;
+    private int maxAcceptableLatencyMillis;
+    private int connectionTimeoutMillis;
+    private int healthCheckIntervalMillis;
+    private @Nullable String pingEndpoint;
+    private float maxErrorPercentage;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ClientSideSlbConfig} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ClientSideSlbConfig instance) {
+      return from((AbstractClientSideSlbConfig) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractClientSideSlbConfig} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractClientSideSlbConfig instance) {
+      Objects.requireNonNull(instance, "instance");
+      setClock(instance.getClock());
+      addAllServerPool(instance.getServerPool());
+      setEventBus(instance.getEventBus());
+      setErrorCheckTimeRangeMillis(instance.getErrorCheckTimeRangeMillis());
+      setLatencyCheckTimeRangeMillis(instance.getLatencyCheckTimeRangeMillis());
+      setMaxAcceptableLatencyMillis(instance.getMaxAcceptableLatencyMillis());
+      setConnectionTimeoutMillis(instance.getConnectionTimeoutMillis());
+      setHealthCheckIntervalMillis(instance.getHealthCheckIntervalMillis());
+      setPingEndpoint(instance.getPingEndpoint());
+      setMaxErrorPercentage(instance.getMaxErrorPercentage());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getClock() clock} attribute.
+     * @param clock The value for clock 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setClock(Clock clock) {
+      this.clock = Objects.requireNonNull(clock, "clock");
+      initBits &= ~INIT_BIT_CLOCK;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractClientSideSlbConfig#getServerPool() serverPool} list.
+     * @param element A serverPool element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addServerPool(URI element) {
+      this.serverPool.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractClientSideSlbConfig#getServerPool() serverPool} list.
+     * @param elements An array of serverPool elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addServerPool(URI... elements) {
+      this.serverPool.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractClientSideSlbConfig#getServerPool() serverPool} list.
+     * @param elements An iterable of serverPool elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setServerPool(Iterable<? extends URI> elements) {
+      this.serverPool = ImmutableList.builder();
+      return addAllServerPool(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractClientSideSlbConfig#getServerPool() serverPool} list.
+     * @param elements An iterable of serverPool elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllServerPool(Iterable<? extends URI> elements) {
+      this.serverPool.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getEventBus() eventBus} attribute.
+     * @param eventBus The value for eventBus 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEventBus(BuckEventBus eventBus) {
+      this.eventBus = Objects.requireNonNull(eventBus, "eventBus");
+      initBits &= ~INIT_BIT_EVENT_BUS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getErrorCheckTimeRangeMillis() errorCheckTimeRangeMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractClientSideSlbConfig#getErrorCheckTimeRangeMillis() errorCheckTimeRangeMillis}.</em>
+     * @param errorCheckTimeRangeMillis The value for errorCheckTimeRangeMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setErrorCheckTimeRangeMillis(int errorCheckTimeRangeMillis) {
+      this.errorCheckTimeRangeMillis = errorCheckTimeRangeMillis;
+      optBits |= OPT_BIT_ERROR_CHECK_TIME_RANGE_MILLIS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getLatencyCheckTimeRangeMillis() latencyCheckTimeRangeMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractClientSideSlbConfig#getLatencyCheckTimeRangeMillis() latencyCheckTimeRangeMillis}.</em>
+     * @param latencyCheckTimeRangeMillis The value for latencyCheckTimeRangeMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLatencyCheckTimeRangeMillis(int latencyCheckTimeRangeMillis) {
+      this.latencyCheckTimeRangeMillis = latencyCheckTimeRangeMillis;
+      optBits |= OPT_BIT_LATENCY_CHECK_TIME_RANGE_MILLIS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getMaxAcceptableLatencyMillis() maxAcceptableLatencyMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractClientSideSlbConfig#getMaxAcceptableLatencyMillis() maxAcceptableLatencyMillis}.</em>
+     * @param maxAcceptableLatencyMillis The value for maxAcceptableLatencyMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMaxAcceptableLatencyMillis(int maxAcceptableLatencyMillis) {
+      this.maxAcceptableLatencyMillis = maxAcceptableLatencyMillis;
+      optBits |= OPT_BIT_MAX_ACCEPTABLE_LATENCY_MILLIS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getConnectionTimeoutMillis() connectionTimeoutMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractClientSideSlbConfig#getConnectionTimeoutMillis() connectionTimeoutMillis}.</em>
+     * @param connectionTimeoutMillis The value for connectionTimeoutMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setConnectionTimeoutMillis(int connectionTimeoutMillis) {
+      this.connectionTimeoutMillis = connectionTimeoutMillis;
+      optBits |= OPT_BIT_CONNECTION_TIMEOUT_MILLIS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getHealthCheckIntervalMillis() healthCheckIntervalMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractClientSideSlbConfig#getHealthCheckIntervalMillis() healthCheckIntervalMillis}.</em>
+     * @param healthCheckIntervalMillis The value for healthCheckIntervalMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHealthCheckIntervalMillis(int healthCheckIntervalMillis) {
+      this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+      optBits |= OPT_BIT_HEALTH_CHECK_INTERVAL_MILLIS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getPingEndpoint() pingEndpoint} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractClientSideSlbConfig#getPingEndpoint() pingEndpoint}.</em>
+     * @param pingEndpoint The value for pingEndpoint 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPingEndpoint(String pingEndpoint) {
+      this.pingEndpoint = Objects.requireNonNull(pingEndpoint, "pingEndpoint");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getMaxErrorPercentage() maxErrorPercentage} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractClientSideSlbConfig#getMaxErrorPercentage() maxErrorPercentage}.</em>
+     * @param maxErrorPercentage The value for maxErrorPercentage 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMaxErrorPercentage(float maxErrorPercentage) {
+      this.maxErrorPercentage = maxErrorPercentage;
+      optBits |= OPT_BIT_MAX_ERROR_PERCENTAGE;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link ClientSideSlbConfig ClientSideSlbConfig}.
+     * @return An immutable instance of ClientSideSlbConfig
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ClientSideSlbConfig build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ClientSideSlbConfig(this);
+    }
+
+    private boolean errorCheckTimeRangeMillisIsSet() {
+      return (optBits & OPT_BIT_ERROR_CHECK_TIME_RANGE_MILLIS) != 0;
+    }
+
+    private boolean latencyCheckTimeRangeMillisIsSet() {
+      return (optBits & OPT_BIT_LATENCY_CHECK_TIME_RANGE_MILLIS) != 0;
+    }
+
+    private boolean maxAcceptableLatencyMillisIsSet() {
+      return (optBits & OPT_BIT_MAX_ACCEPTABLE_LATENCY_MILLIS) != 0;
+    }
+
+    private boolean connectionTimeoutMillisIsSet() {
+      return (optBits & OPT_BIT_CONNECTION_TIMEOUT_MILLIS) != 0;
+    }
+
+    private boolean healthCheckIntervalMillisIsSet() {
+      return (optBits & OPT_BIT_HEALTH_CHECK_INTERVAL_MILLIS) != 0;
+    }
+
+    private boolean maxErrorPercentageIsSet() {
+      return (optBits & OPT_BIT_MAX_ERROR_PERCENTAGE) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CLOCK) != 0) attributes.add("clock");
+      if ((initBits & INIT_BIT_EVENT_BUS) != 0) attributes.add("eventBus");
+      return "Cannot build ClientSideSlbConfig, some of required attributes are not set " + attributes;
+    }
+  }
+}
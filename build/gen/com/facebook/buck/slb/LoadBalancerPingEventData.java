@@ -0,0 +1,209 @@
+package com.facebook.buck.slb;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link LoadBalancerPingEvent.AbstractLoadBalancerPingEventData}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code LoadBalancerPingEventData.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "LoadBalancerPingEvent.AbstractLoadBalancerPingEventData"})
+@Immutable
+public final class LoadBalancerPingEventData
+    implements LoadBalancerPingEvent.AbstractLoadBalancerPingEventData {
+  private final ImmutableList<PerServerPingData> perServerData;
+
+  private LoadBalancerPingEventData(ImmutableList<PerServerPingData> perServerData) {
+    this.perServerData = perServerData;
+  }
+
+  /**
+   * @return The value of the {@code perServerData} attribute
+   */
+  @Override
+  public ImmutableList<PerServerPingData> getPerServerData() {
+    return perServerData;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link LoadBalancerPingEvent.AbstractLoadBalancerPingEventData#getPerServerData() perServerData}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final LoadBalancerPingEventData withPerServerData(PerServerPingData... elements) {
+    ImmutableList<PerServerPingData> newValue = ImmutableList.copyOf(elements);
+    return new LoadBalancerPingEventData(newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link LoadBalancerPingEvent.AbstractLoadBalancerPingEventData#getPerServerData() perServerData}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of perServerData elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final LoadBalancerPingEventData withPerServerData(Iterable<? extends PerServerPingData> elements) {
+    if (this.perServerData == elements) return this;
+    ImmutableList<PerServerPingData> newValue = ImmutableList.copyOf(elements);
+    return new LoadBalancerPingEventData(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code LoadBalancerPingEventData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof LoadBalancerPingEventData
+        && equalTo((LoadBalancerPingEventData) another);
+  }
+
+  private boolean equalTo(LoadBalancerPingEventData another) {
+    return perServerData.equals(another.perServerData);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code perServerData}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + perServerData.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LoadBalancerPingEventData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LoadBalancerPingEventData")
+        .omitNullValues()
+        .add("perServerData", perServerData)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link LoadBalancerPingEvent.AbstractLoadBalancerPingEventData} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable LoadBalancerPingEventData instance
+   */
+  static LoadBalancerPingEventData copyOf(LoadBalancerPingEvent.AbstractLoadBalancerPingEventData instance) {
+    if (instance instanceof LoadBalancerPingEventData) {
+      return (LoadBalancerPingEventData) instance;
+    }
+    return LoadBalancerPingEventData.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link LoadBalancerPingEventData LoadBalancerPingEventData}.
+   * @return A new LoadBalancerPingEventData builder
+   */
+  public static LoadBalancerPingEventData.Builder builder() {
+    return new LoadBalancerPingEventData.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link LoadBalancerPingEventData LoadBalancerPingEventData}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableList.Builder<PerServerPingData> perServerData = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code LoadBalancerPingEventData} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(LoadBalancerPingEventData instance) {
+      return from((LoadBalancerPingEvent.AbstractLoadBalancerPingEventData) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractLoadBalancerPingEventData} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(LoadBalancerPingEvent.AbstractLoadBalancerPingEventData instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllPerServerData(instance.getPerServerData());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link LoadBalancerPingEvent.AbstractLoadBalancerPingEventData#getPerServerData() perServerData} list.
+     * @param element A perServerData element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPerServerData(PerServerPingData element) {
+      this.perServerData.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link LoadBalancerPingEvent.AbstractLoadBalancerPingEventData#getPerServerData() perServerData} list.
+     * @param elements An array of perServerData elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPerServerData(PerServerPingData... elements) {
+      this.perServerData.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link LoadBalancerPingEvent.AbstractLoadBalancerPingEventData#getPerServerData() perServerData} list.
+     * @param elements An iterable of perServerData elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPerServerData(Iterable<? extends PerServerPingData> elements) {
+      this.perServerData = ImmutableList.builder();
+      return addAllPerServerData(elements);
+    }
+
+    /**
+     * Adds elements to {@link LoadBalancerPingEvent.AbstractLoadBalancerPingEventData#getPerServerData() perServerData} list.
+     * @param elements An iterable of perServerData elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPerServerData(Iterable<? extends PerServerPingData> elements) {
+      this.perServerData.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link LoadBalancerPingEventData LoadBalancerPingEventData}.
+     * @return An immutable instance of LoadBalancerPingEventData
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public LoadBalancerPingEventData build() {
+      return new LoadBalancerPingEventData(perServerData.build());
+    }
+  }
+}
@@ -0,0 +1,342 @@
+package com.facebook.buck.slb;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ServerHealthManagerEvent.AbstractPerServerData}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PerServerData.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ServerHealthManagerEvent.AbstractPerServerData"})
+@Immutable
+public final class PerServerData extends ServerHealthManagerEvent.AbstractPerServerData {
+  private final URI server;
+  private final boolean serverUnhealthy;
+  private final boolean bestServer;
+
+  private PerServerData(PerServerData.Builder builder) {
+    this.server = builder.server;
+    if (builder.serverUnhealthyIsSet()) {
+      initShim.setServerUnhealthy(builder.serverUnhealthy);
+    }
+    if (builder.bestServerIsSet()) {
+      initShim.setBestServer(builder.bestServer);
+    }
+    this.serverUnhealthy = initShim.isServerUnhealthy();
+    this.bestServer = initShim.isBestServer();
+    this.initShim = null;
+  }
+
+  private PerServerData(URI server, boolean serverUnhealthy, boolean bestServer) {
+    this.server = server;
+    this.serverUnhealthy = serverUnhealthy;
+    this.bestServer = bestServer;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean serverUnhealthy;
+    private int serverUnhealthyBuildStage;
+
+    boolean isServerUnhealthy() {
+      if (serverUnhealthyBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (serverUnhealthyBuildStage == STAGE_UNINITIALIZED) {
+        serverUnhealthyBuildStage = STAGE_INITIALIZING;
+        this.serverUnhealthy = PerServerData.super.isServerUnhealthy();
+        serverUnhealthyBuildStage = STAGE_INITIALIZED;
+      }
+      return this.serverUnhealthy;
+    }
+
+    void setServerUnhealthy(boolean serverUnhealthy) {
+      this.serverUnhealthy = serverUnhealthy;
+      serverUnhealthyBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean bestServer;
+    private int bestServerBuildStage;
+
+    boolean isBestServer() {
+      if (bestServerBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (bestServerBuildStage == STAGE_UNINITIALIZED) {
+        bestServerBuildStage = STAGE_INITIALIZING;
+        this.bestServer = PerServerData.super.isBestServer();
+        bestServerBuildStage = STAGE_INITIALIZED;
+      }
+      return this.bestServer;
+    }
+
+    void setBestServer(boolean bestServer) {
+      this.bestServer = bestServer;
+      bestServerBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (serverUnhealthyBuildStage == STAGE_INITIALIZING) attributes.add("serverUnhealthy");
+      if (bestServerBuildStage == STAGE_INITIALIZING) attributes.add("bestServer");
+      return "Cannot build PerServerData, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code server} attribute
+   */
+  @Override
+  public URI getServer() {
+    return server;
+  }
+
+  /**
+   * @return The value of the {@code serverUnhealthy} attribute
+   */
+  @Override
+  public boolean isServerUnhealthy() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isServerUnhealthy()
+        : this.serverUnhealthy;
+  }
+
+  /**
+   * @return The value of the {@code bestServer} attribute
+   */
+  @Override
+  public boolean isBestServer() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isBestServer()
+        : this.bestServer;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ServerHealthManagerEvent.AbstractPerServerData#getServer() server} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for server
+   * @return A modified copy of the {@code this} object
+   */
+  public final PerServerData withServer(URI value) {
+    if (this.server == value) return this;
+    URI newValue = Objects.requireNonNull(value, "server");
+    return new PerServerData(newValue, this.serverUnhealthy, this.bestServer);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ServerHealthManagerEvent.AbstractPerServerData#isServerUnhealthy() serverUnhealthy} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for serverUnhealthy
+   * @return A modified copy of the {@code this} object
+   */
+  public final PerServerData withServerUnhealthy(boolean value) {
+    if (this.serverUnhealthy == value) return this;
+    return new PerServerData(this.server, value, this.bestServer);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ServerHealthManagerEvent.AbstractPerServerData#isBestServer() bestServer} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for bestServer
+   * @return A modified copy of the {@code this} object
+   */
+  public final PerServerData withBestServer(boolean value) {
+    if (this.bestServer == value) return this;
+    return new PerServerData(this.server, this.serverUnhealthy, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PerServerData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PerServerData
+        && equalTo((PerServerData) another);
+  }
+
+  private boolean equalTo(PerServerData another) {
+    return server.equals(another.server)
+        && serverUnhealthy == another.serverUnhealthy
+        && bestServer == another.bestServer;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code server}, {@code serverUnhealthy}, {@code bestServer}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + server.hashCode();
+    h += (h << 5) + Booleans.hashCode(serverUnhealthy);
+    h += (h << 5) + Booleans.hashCode(bestServer);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PerServerData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PerServerData")
+        .omitNullValues()
+        .add("server", server)
+        .add("serverUnhealthy", serverUnhealthy)
+        .add("bestServer", bestServer)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ServerHealthManagerEvent.AbstractPerServerData} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PerServerData instance
+   */
+  static PerServerData copyOf(ServerHealthManagerEvent.AbstractPerServerData instance) {
+    if (instance instanceof PerServerData) {
+      return (PerServerData) instance;
+    }
+    return PerServerData.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PerServerData PerServerData}.
+   * @return A new PerServerData builder
+   */
+  public static PerServerData.Builder builder() {
+    return new PerServerData.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PerServerData PerServerData}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SERVER = 0x1L;
+    private static final long OPT_BIT_SERVER_UNHEALTHY = 0x1L;
+    private static final long OPT_BIT_BEST_SERVER = 0x2L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable URI server;
+    private boolean serverUnhealthy;
+    private boolean bestServer;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PerServerData} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PerServerData instance) {
+      return from((ServerHealthManagerEvent.AbstractPerServerData) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPerServerData} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ServerHealthManagerEvent.AbstractPerServerData instance) {
+      Objects.requireNonNull(instance, "instance");
+      setServer(instance.getServer());
+      setServerUnhealthy(instance.isServerUnhealthy());
+      setBestServer(instance.isBestServer());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ServerHealthManagerEvent.AbstractPerServerData#getServer() server} attribute.
+     * @param server The value for server 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setServer(URI server) {
+      this.server = Objects.requireNonNull(server, "server");
+      initBits &= ~INIT_BIT_SERVER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link ServerHealthManagerEvent.AbstractPerServerData#isServerUnhealthy() serverUnhealthy} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ServerHealthManagerEvent.AbstractPerServerData#isServerUnhealthy() serverUnhealthy}.</em>
+     * @param serverUnhealthy The value for serverUnhealthy 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setServerUnhealthy(boolean serverUnhealthy) {
+      this.serverUnhealthy = serverUnhealthy;
+      optBits |= OPT_BIT_SERVER_UNHEALTHY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link ServerHealthManagerEvent.AbstractPerServerData#isBestServer() bestServer} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ServerHealthManagerEvent.AbstractPerServerData#isBestServer() bestServer}.</em>
+     * @param bestServer The value for bestServer 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBestServer(boolean bestServer) {
+      this.bestServer = bestServer;
+      optBits |= OPT_BIT_BEST_SERVER;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link PerServerData PerServerData}.
+     * @return An immutable instance of PerServerData
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PerServerData build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PerServerData(this);
+    }
+
+    private boolean serverUnhealthyIsSet() {
+      return (optBits & OPT_BIT_SERVER_UNHEALTHY) != 0;
+    }
+
+    private boolean bestServerIsSet() {
+      return (optBits & OPT_BIT_BEST_SERVER) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SERVER) != 0) attributes.add("server");
+      return "Cannot build PerServerData, some of required attributes are not set " + attributes;
+    }
+  }
+}
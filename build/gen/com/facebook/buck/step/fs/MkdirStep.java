@@ -0,0 +1,109 @@
+package com.facebook.buck.step.fs;
+
+import com.facebook.buck.io.BuildCellRelativePath;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *Command that runs equivalent command of {@code mkdir -p} on the specified directory. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractMkdirStep"})
+@Immutable
+public final class MkdirStep extends AbstractMkdirStep {
+  private final BuildCellRelativePath path;
+
+  private MkdirStep(BuildCellRelativePath path) {
+    this.path = Objects.requireNonNull(path, "path");
+  }
+
+  private MkdirStep(MkdirStep original, BuildCellRelativePath path) {
+    this.path = path;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public BuildCellRelativePath getPath() {
+    return path;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractMkdirStep#getPath() path} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final MkdirStep withPath(BuildCellRelativePath value) {
+    if (this.path == value) return this;
+    BuildCellRelativePath newValue = Objects.requireNonNull(value, "path");
+    return new MkdirStep(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code MkdirStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof MkdirStep
+        && equalTo((MkdirStep) another);
+  }
+
+  private boolean equalTo(MkdirStep another) {
+    return path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MkdirStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MkdirStep")
+        .omitNullValues()
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MkdirStep} instance.
+   * @param path The value for the {@code path} attribute
+   * @return An immutable MkdirStep instance
+   */
+  public static MkdirStep of(BuildCellRelativePath path) {
+    return new MkdirStep(path);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractMkdirStep} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable MkdirStep instance
+   */
+  static MkdirStep copyOf(AbstractMkdirStep instance) {
+    if (instance instanceof MkdirStep) {
+      return (MkdirStep) instance;
+    }
+    return MkdirStep.of(instance.getPath());
+  }
+}
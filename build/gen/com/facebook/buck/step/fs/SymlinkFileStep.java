@@ -0,0 +1,291 @@
+package com.facebook.buck.step.fs;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractSymlinkFileStep}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code SymlinkFileStep.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code SymlinkFileStep.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSymlinkFileStep"})
+@Immutable
+public final class SymlinkFileStep extends AbstractSymlinkFileStep {
+  private final ProjectFilesystem filesystem;
+  private final Path existingFile;
+  private final Path desiredLink;
+
+  private SymlinkFileStep(
+      ProjectFilesystem filesystem,
+      Path existingFile,
+      Path desiredLink) {
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.existingFile = Objects.requireNonNull(existingFile, "existingFile");
+    this.desiredLink = Objects.requireNonNull(desiredLink, "desiredLink");
+  }
+
+  private SymlinkFileStep(
+      SymlinkFileStep original,
+      ProjectFilesystem filesystem,
+      Path existingFile,
+      Path desiredLink) {
+    this.filesystem = filesystem;
+    this.existingFile = existingFile;
+    this.desiredLink = desiredLink;
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code existingFile} attribute
+   */
+  @Override
+  public Path getExistingFile() {
+    return existingFile;
+  }
+
+  /**
+   * @return The value of the {@code desiredLink} attribute
+   */
+  @Override
+  public Path getDesiredLink() {
+    return desiredLink;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSymlinkFileStep#getFilesystem() filesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for filesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final SymlinkFileStep withFilesystem(ProjectFilesystem value) {
+    if (this.filesystem == value) return this;
+    ProjectFilesystem newValue = Objects.requireNonNull(value, "filesystem");
+    return new SymlinkFileStep(this, newValue, this.existingFile, this.desiredLink);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSymlinkFileStep#getExistingFile() existingFile} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for existingFile
+   * @return A modified copy of the {@code this} object
+   */
+  public final SymlinkFileStep withExistingFile(Path value) {
+    if (this.existingFile == value) return this;
+    Path newValue = Objects.requireNonNull(value, "existingFile");
+    return new SymlinkFileStep(this, this.filesystem, newValue, this.desiredLink);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSymlinkFileStep#getDesiredLink() desiredLink} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for desiredLink
+   * @return A modified copy of the {@code this} object
+   */
+  public final SymlinkFileStep withDesiredLink(Path value) {
+    if (this.desiredLink == value) return this;
+    Path newValue = Objects.requireNonNull(value, "desiredLink");
+    return new SymlinkFileStep(this, this.filesystem, this.existingFile, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SymlinkFileStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SymlinkFileStep
+        && equalTo((SymlinkFileStep) another);
+  }
+
+  private boolean equalTo(SymlinkFileStep another) {
+    return filesystem.equals(another.filesystem)
+        && existingFile.equals(another.existingFile)
+        && desiredLink.equals(another.desiredLink);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filesystem}, {@code existingFile}, {@code desiredLink}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + filesystem.hashCode();
+    h += (h << 5) + existingFile.hashCode();
+    h += (h << 5) + desiredLink.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SymlinkFileStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SymlinkFileStep")
+        .omitNullValues()
+        .add("filesystem", filesystem)
+        .add("existingFile", existingFile)
+        .add("desiredLink", desiredLink)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SymlinkFileStep} instance.
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param existingFile The value for the {@code existingFile} attribute
+   * @param desiredLink The value for the {@code desiredLink} attribute
+   * @return An immutable SymlinkFileStep instance
+   */
+  public static SymlinkFileStep of(ProjectFilesystem filesystem, Path existingFile, Path desiredLink) {
+    return new SymlinkFileStep(filesystem, existingFile, desiredLink);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractSymlinkFileStep} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable SymlinkFileStep instance
+   */
+  static SymlinkFileStep copyOf(AbstractSymlinkFileStep instance) {
+    if (instance instanceof SymlinkFileStep) {
+      return (SymlinkFileStep) instance;
+    }
+    return SymlinkFileStep.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link SymlinkFileStep SymlinkFileStep}.
+   * @return A new SymlinkFileStep builder
+   */
+  public static SymlinkFileStep.Builder builder() {
+    return new SymlinkFileStep.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link SymlinkFileStep SymlinkFileStep}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_FILESYSTEM = 0x1L;
+    private static final long INIT_BIT_EXISTING_FILE = 0x2L;
+    private static final long INIT_BIT_DESIRED_LINK = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable ProjectFilesystem filesystem;
+    private @Nullable Path existingFile;
+    private @Nullable Path desiredLink;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SymlinkFileStep} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(SymlinkFileStep instance) {
+      return from((AbstractSymlinkFileStep) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractSymlinkFileStep} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractSymlinkFileStep instance) {
+      Objects.requireNonNull(instance, "instance");
+      setFilesystem(instance.getFilesystem());
+      setExistingFile(instance.getExistingFile());
+      setDesiredLink(instance.getDesiredLink());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractSymlinkFileStep#getFilesystem() filesystem} attribute.
+     * @param filesystem The value for filesystem 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFilesystem(ProjectFilesystem filesystem) {
+      this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+      initBits &= ~INIT_BIT_FILESYSTEM;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractSymlinkFileStep#getExistingFile() existingFile} attribute.
+     * @param existingFile The value for existingFile 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExistingFile(Path existingFile) {
+      this.existingFile = Objects.requireNonNull(existingFile, "existingFile");
+      initBits &= ~INIT_BIT_EXISTING_FILE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractSymlinkFileStep#getDesiredLink() desiredLink} attribute.
+     * @param desiredLink The value for desiredLink 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDesiredLink(Path desiredLink) {
+      this.desiredLink = Objects.requireNonNull(desiredLink, "desiredLink");
+      initBits &= ~INIT_BIT_DESIRED_LINK;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link SymlinkFileStep SymlinkFileStep}.
+     * @return An immutable instance of SymlinkFileStep
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SymlinkFileStep build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new SymlinkFileStep(null, filesystem, existingFile, desiredLink);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_FILESYSTEM) != 0) attributes.add("filesystem");
+      if ((initBits & INIT_BIT_EXISTING_FILE) != 0) attributes.add("existingFile");
+      if ((initBits & INIT_BIT_DESIRED_LINK) != 0) attributes.add("desiredLink");
+      return "Cannot build SymlinkFileStep, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,1704 @@
+package com.facebook.buck.swift;
+
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasSrcs;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.facebook.buck.rules.macros.StringWithMacros;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code SwiftLibraryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg"})
+@Immutable
+public final class SwiftLibraryDescriptionArg
+    implements SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg {
+  private final @Nullable String moduleName;
+  private final ImmutableList<StringWithMacros> compilerFlags;
+  private final @Nullable String version;
+  private final ImmutableSortedSet<FrameworkPath> frameworks;
+  private final ImmutableSortedSet<FrameworkPath> libraries;
+  private final @Nullable Boolean enableObjcInterop;
+  private final @Nullable Pattern supportedPlatformsRegex;
+  private final @Nullable String soname;
+  private final @Nullable SourcePath bridgingHeader;
+  private final @Nullable NativeLinkable.Linkage preferredLinkage;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<SourcePath> srcs;
+
+  private SwiftLibraryDescriptionArg(
+      @Nullable String moduleName,
+      ImmutableList<StringWithMacros> compilerFlags,
+      @Nullable String version,
+      ImmutableSortedSet<FrameworkPath> frameworks,
+      ImmutableSortedSet<FrameworkPath> libraries,
+      @Nullable Boolean enableObjcInterop,
+      @Nullable Pattern supportedPlatformsRegex,
+      @Nullable String soname,
+      @Nullable SourcePath bridgingHeader,
+      @Nullable NativeLinkable.Linkage preferredLinkage,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<SourcePath> srcs) {
+    this.moduleName = moduleName;
+    this.compilerFlags = compilerFlags;
+    this.version = version;
+    this.frameworks = frameworks;
+    this.libraries = libraries;
+    this.enableObjcInterop = enableObjcInterop;
+    this.supportedPlatformsRegex = supportedPlatformsRegex;
+    this.soname = soname;
+    this.bridgingHeader = bridgingHeader;
+    this.preferredLinkage = preferredLinkage;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.srcs = srcs;
+  }
+
+  /**
+   * @return The value of the {@code moduleName} attribute
+   */
+  @Override
+  public Optional<String> getModuleName() {
+    return Optional.ofNullable(moduleName);
+  }
+
+  /**
+   * @return The value of the {@code compilerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getCompilerFlags() {
+    return compilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code version} attribute
+   */
+  @Override
+  public Optional<String> getVersion() {
+    return Optional.ofNullable(version);
+  }
+
+  /**
+   * @return The value of the {@code frameworks} attribute
+   */
+  @Override
+  public ImmutableSortedSet<FrameworkPath> getFrameworks() {
+    return frameworks;
+  }
+
+  /**
+   * @return The value of the {@code libraries} attribute
+   */
+  @Override
+  public ImmutableSortedSet<FrameworkPath> getLibraries() {
+    return libraries;
+  }
+
+  /**
+   * @return The value of the {@code enableObjcInterop} attribute
+   */
+  @Override
+  public Optional<Boolean> getEnableObjcInterop() {
+    return Optional.ofNullable(enableObjcInterop);
+  }
+
+  /**
+   * @return The value of the {@code supportedPlatformsRegex} attribute
+   */
+  @Override
+  public Optional<Pattern> getSupportedPlatformsRegex() {
+    return Optional.ofNullable(supportedPlatformsRegex);
+  }
+
+  /**
+   * @return The value of the {@code soname} attribute
+   */
+  @Override
+  public Optional<String> getSoname() {
+    return Optional.ofNullable(soname);
+  }
+
+  /**
+   * @return The value of the {@code bridgingHeader} attribute
+   */
+  @Override
+  public Optional<SourcePath> getBridgingHeader() {
+    return Optional.ofNullable(bridgingHeader);
+  }
+
+  /**
+   * @return The value of the {@code preferredLinkage} attribute
+   */
+  @Override
+  public Optional<NativeLinkable.Linkage> getPreferredLinkage() {
+    return Optional.ofNullable(preferredLinkage);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getModuleName() moduleName} attribute.
+   * @param value The value for moduleName
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withModuleName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "moduleName");
+    if (Objects.equals(this.moduleName, newValue)) return this;
+    return new SwiftLibraryDescriptionArg(
+        newValue,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getModuleName() moduleName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for moduleName
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withModuleName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.moduleName, value)) return this;
+    return new SwiftLibraryDescriptionArg(
+        value,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getCompilerFlags() compilerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withCompilerFlags(StringWithMacros... elements) {
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        newValue,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getCompilerFlags() compilerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of compilerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+    if (this.compilerFlags == elements) return this;
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        newValue,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getVersion() version} attribute.
+   * @param value The value for version
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withVersion(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "version");
+    if (Objects.equals(this.version, newValue)) return this;
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        newValue,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getVersion() version} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for version
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withVersion(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.version, value)) return this;
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        value,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getFrameworks() frameworks}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withFrameworks(FrameworkPath... elements) {
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        Arrays.asList(elements));
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        newValue,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getFrameworks() frameworks}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of frameworks elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withFrameworks(Iterable<? extends FrameworkPath> elements) {
+    if (this.frameworks == elements) return this;
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        elements);
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        newValue,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLibraries() libraries}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withLibraries(FrameworkPath... elements) {
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        Arrays.asList(elements));
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        newValue,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLibraries() libraries}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of libraries elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withLibraries(Iterable<? extends FrameworkPath> elements) {
+    if (this.libraries == elements) return this;
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        elements);
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        newValue,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getEnableObjcInterop() enableObjcInterop} attribute.
+   * @param value The value for enableObjcInterop
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withEnableObjcInterop(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.enableObjcInterop, newValue)) return this;
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        newValue,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getEnableObjcInterop() enableObjcInterop} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for enableObjcInterop
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withEnableObjcInterop(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.enableObjcInterop, value)) return this;
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        value,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} attribute.
+   * @param value The value for supportedPlatformsRegex
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withSupportedPlatformsRegex(Pattern value) {
+    @Nullable Pattern newValue = Objects.requireNonNull(value, "supportedPlatformsRegex");
+    if (this.supportedPlatformsRegex == newValue) return this;
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        newValue,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for supportedPlatformsRegex
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withSupportedPlatformsRegex(Optional<? extends Pattern> optional) {
+    @Nullable Pattern value = optional.orElse(null);
+    if (this.supportedPlatformsRegex == value) return this;
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        value,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getSoname() soname} attribute.
+   * @param value The value for soname
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withSoname(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "soname");
+    if (Objects.equals(this.soname, newValue)) return this;
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        newValue,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getSoname() soname} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for soname
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withSoname(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.soname, value)) return this;
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        value,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getBridgingHeader() bridgingHeader} attribute.
+   * @param value The value for bridgingHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withBridgingHeader(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "bridgingHeader");
+    if (this.bridgingHeader == newValue) return this;
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        newValue,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getBridgingHeader() bridgingHeader} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for bridgingHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withBridgingHeader(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.bridgingHeader == value) return this;
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        value,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getPreferredLinkage() preferredLinkage} attribute.
+   * @param value The value for preferredLinkage
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withPreferredLinkage(NativeLinkable.Linkage value) {
+    @Nullable NativeLinkable.Linkage newValue = Objects.requireNonNull(value, "preferredLinkage");
+    if (this.preferredLinkage == newValue) return this;
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getPreferredLinkage() preferredLinkage} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for preferredLinkage
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withPreferredLinkage(Optional<? extends NativeLinkable.Linkage> optional) {
+    @Nullable NativeLinkable.Linkage value = optional.orElse(null);
+    if (Objects.equals(this.preferredLinkage, value)) return this;
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withSrcs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SwiftLibraryDescriptionArg withSrcs(Iterable<? extends SourcePath> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new SwiftLibraryDescriptionArg(
+        this.moduleName,
+        this.compilerFlags,
+        this.version,
+        this.frameworks,
+        this.libraries,
+        this.enableObjcInterop,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.bridgingHeader,
+        this.preferredLinkage,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SwiftLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SwiftLibraryDescriptionArg
+        && equalTo((SwiftLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(SwiftLibraryDescriptionArg another) {
+    return Objects.equals(moduleName, another.moduleName)
+        && compilerFlags.equals(another.compilerFlags)
+        && Objects.equals(version, another.version)
+        && frameworks.equals(another.frameworks)
+        && libraries.equals(another.libraries)
+        && Objects.equals(enableObjcInterop, another.enableObjcInterop)
+        && Objects.equals(supportedPlatformsRegex, another.supportedPlatformsRegex)
+        && Objects.equals(soname, another.soname)
+        && Objects.equals(bridgingHeader, another.bridgingHeader)
+        && Objects.equals(preferredLinkage, another.preferredLinkage)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && srcs.equals(another.srcs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code moduleName}, {@code compilerFlags}, {@code version}, {@code frameworks}, {@code libraries}, {@code enableObjcInterop}, {@code supportedPlatformsRegex}, {@code soname}, {@code bridgingHeader}, {@code preferredLinkage}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code srcs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(moduleName);
+    h += (h << 5) + compilerFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(version);
+    h += (h << 5) + frameworks.hashCode();
+    h += (h << 5) + libraries.hashCode();
+    h += (h << 5) + Objects.hashCode(enableObjcInterop);
+    h += (h << 5) + Objects.hashCode(supportedPlatformsRegex);
+    h += (h << 5) + Objects.hashCode(soname);
+    h += (h << 5) + Objects.hashCode(bridgingHeader);
+    h += (h << 5) + Objects.hashCode(preferredLinkage);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SwiftLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SwiftLibraryDescriptionArg")
+        .omitNullValues()
+        .add("moduleName", moduleName)
+        .add("compilerFlags", compilerFlags)
+        .add("version", version)
+        .add("frameworks", frameworks)
+        .add("libraries", libraries)
+        .add("enableObjcInterop", enableObjcInterop)
+        .add("supportedPlatformsRegex", supportedPlatformsRegex)
+        .add("soname", soname)
+        .add("bridgingHeader", bridgingHeader)
+        .add("preferredLinkage", preferredLinkage)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("srcs", srcs)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable SwiftLibraryDescriptionArg instance
+   */
+  static SwiftLibraryDescriptionArg copyOf(SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg instance) {
+    if (instance instanceof SwiftLibraryDescriptionArg) {
+      return (SwiftLibraryDescriptionArg) instance;
+    }
+    return SwiftLibraryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link SwiftLibraryDescriptionArg SwiftLibraryDescriptionArg}.
+   * @return A new SwiftLibraryDescriptionArg builder
+   */
+  public static SwiftLibraryDescriptionArg.Builder builder() {
+    return new SwiftLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link SwiftLibraryDescriptionArg SwiftLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String moduleName;
+    private ImmutableList.Builder<StringWithMacros> compilerFlags = ImmutableList.builder();
+    private @Nullable String version;
+    private ImmutableSortedSet.Builder<FrameworkPath> frameworks = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<FrameworkPath> libraries = ImmutableSortedSet.naturalOrder();
+    private @Nullable Boolean enableObjcInterop;
+    private @Nullable Pattern supportedPlatformsRegex;
+    private @Nullable String soname;
+    private @Nullable SourcePath bridgingHeader;
+    private @Nullable NativeLinkable.Linkage preferredLinkage;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasSrcs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasSrcs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SwiftLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(SwiftLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractSwiftLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasSrcs) {
+        HasSrcs instance = (HasSrcs) object;
+        addAllSrcs(instance.getSrcs());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg) {
+        SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg instance = (SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg) object;
+        Optional<Pattern> supportedPlatformsRegexOptional = instance.getSupportedPlatformsRegex();
+        if (supportedPlatformsRegexOptional.isPresent()) {
+          setSupportedPlatformsRegex(supportedPlatformsRegexOptional);
+        }
+        addAllFrameworks(instance.getFrameworks());
+        addAllCompilerFlags(instance.getCompilerFlags());
+        Optional<String> moduleNameOptional = instance.getModuleName();
+        if (moduleNameOptional.isPresent()) {
+          setModuleName(moduleNameOptional);
+        }
+        addAllLibraries(instance.getLibraries());
+        Optional<String> sonameOptional = instance.getSoname();
+        if (sonameOptional.isPresent()) {
+          setSoname(sonameOptional);
+        }
+        Optional<Boolean> enableObjcInteropOptional = instance.getEnableObjcInterop();
+        if (enableObjcInteropOptional.isPresent()) {
+          setEnableObjcInterop(enableObjcInteropOptional);
+        }
+        Optional<String> versionOptional = instance.getVersion();
+        if (versionOptional.isPresent()) {
+          setVersion(versionOptional);
+        }
+        Optional<NativeLinkable.Linkage> preferredLinkageOptional = instance.getPreferredLinkage();
+        if (preferredLinkageOptional.isPresent()) {
+          setPreferredLinkage(preferredLinkageOptional);
+        }
+        Optional<SourcePath> bridgingHeaderOptional = instance.getBridgingHeader();
+        if (bridgingHeaderOptional.isPresent()) {
+          setBridgingHeader(bridgingHeaderOptional);
+        }
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getModuleName() moduleName} to moduleName.
+     * @param moduleName The value for moduleName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setModuleName(String moduleName) {
+      this.moduleName = Objects.requireNonNull(moduleName, "moduleName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getModuleName() moduleName} to moduleName.
+     * @param moduleName The value for moduleName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setModuleName(Optional<String> moduleName) {
+      this.moduleName = moduleName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param element A compilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(StringWithMacros element) {
+      this.compilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An array of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(StringWithMacros... elements) {
+      this.compilerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.compilerFlags = ImmutableList.builder();
+      return addAllCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.compilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getVersion() version} to version.
+     * @param version The value for version
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersion(String version) {
+      this.version = Objects.requireNonNull(version, "version");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getVersion() version} to version.
+     * @param version The value for version
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersion(Optional<String> version) {
+      this.version = version.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param element A frameworks element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFrameworks(FrameworkPath element) {
+      this.frameworks.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An array of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFrameworks(FrameworkPath... elements) {
+      this.frameworks.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks = ImmutableSortedSet.naturalOrder();
+      return addAllFrameworks(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param element A libraries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLibraries(FrameworkPath element) {
+      this.libraries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An array of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLibraries(FrameworkPath... elements) {
+      this.libraries.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries = ImmutableSortedSet.naturalOrder();
+      return addAllLibraries(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getEnableObjcInterop() enableObjcInterop} to enableObjcInterop.
+     * @param enableObjcInterop The value for enableObjcInterop
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setEnableObjcInterop(boolean enableObjcInterop) {
+      this.enableObjcInterop = enableObjcInterop;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getEnableObjcInterop() enableObjcInterop} to enableObjcInterop.
+     * @param enableObjcInterop The value for enableObjcInterop
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnableObjcInterop(Optional<Boolean> enableObjcInterop) {
+      this.enableObjcInterop = enableObjcInterop.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} to supportedPlatformsRegex.
+     * @param supportedPlatformsRegex The value for supportedPlatformsRegex
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSupportedPlatformsRegex(Pattern supportedPlatformsRegex) {
+      this.supportedPlatformsRegex = Objects.requireNonNull(supportedPlatformsRegex, "supportedPlatformsRegex");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} to supportedPlatformsRegex.
+     * @param supportedPlatformsRegex The value for supportedPlatformsRegex
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSupportedPlatformsRegex(Optional<? extends Pattern> supportedPlatformsRegex) {
+      this.supportedPlatformsRegex = supportedPlatformsRegex.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getSoname() soname} to soname.
+     * @param soname The value for soname
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSoname(String soname) {
+      this.soname = Objects.requireNonNull(soname, "soname");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getSoname() soname} to soname.
+     * @param soname The value for soname
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSoname(Optional<String> soname) {
+      this.soname = soname.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getBridgingHeader() bridgingHeader} to bridgingHeader.
+     * @param bridgingHeader The value for bridgingHeader
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBridgingHeader(SourcePath bridgingHeader) {
+      this.bridgingHeader = Objects.requireNonNull(bridgingHeader, "bridgingHeader");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getBridgingHeader() bridgingHeader} to bridgingHeader.
+     * @param bridgingHeader The value for bridgingHeader
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBridgingHeader(Optional<? extends SourcePath> bridgingHeader) {
+      this.bridgingHeader = bridgingHeader.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getPreferredLinkage() preferredLinkage} to preferredLinkage.
+     * @param preferredLinkage The value for preferredLinkage
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPreferredLinkage(NativeLinkable.Linkage preferredLinkage) {
+      this.preferredLinkage = Objects.requireNonNull(preferredLinkage, "preferredLinkage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getPreferredLinkage() preferredLinkage} to preferredLinkage.
+     * @param preferredLinkage The value for preferredLinkage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPreferredLinkage(Optional<? extends NativeLinkable.Linkage> preferredLinkage) {
+      this.preferredLinkage = preferredLinkage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftLibraryDescription.AbstractSwiftLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link SwiftLibraryDescriptionArg SwiftLibraryDescriptionArg}.
+     * @return An immutable instance of SwiftLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SwiftLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new SwiftLibraryDescriptionArg(
+          moduleName,
+          compilerFlags.build(),
+          version,
+          frameworks.build(),
+          libraries.build(),
+          enableObjcInterop,
+          supportedPlatformsRegex,
+          soname,
+          bridgingHeader,
+          preferredLinkage,
+          name,
+          licenses.build(),
+          labels.build(),
+          deps.build(),
+          srcs.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build SwiftLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,975 @@
+package com.facebook.buck.test;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Represents the test results from multiple test cases. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractTestResults"})
+@Immutable
+public final class TestResults extends AbstractTestResults {
+  private final BuildTarget buildTarget;
+  private final boolean success;
+  private final boolean hasAssumptionViolations;
+  private final int failureCount;
+  private final ImmutableList<TestCaseSummary> failures;
+  private final ImmutableList<TestCaseSummary> testCases;
+  private final ImmutableSet<String> contacts;
+  private final ImmutableSet<String> labels;
+  private final ImmutableList<Path> testLogPaths;
+  private final boolean dependenciesPassTheirTests;
+  private final int sequenceNumber;
+  private final int totalNumberOfTests;
+
+  private TestResults(
+      BuildTarget buildTarget,
+      Iterable<? extends TestCaseSummary> testCases,
+      Iterable<String> contacts,
+      Iterable<String> labels) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.testCases = ImmutableList.copyOf(testCases);
+    this.contacts = ImmutableSet.copyOf(contacts);
+    this.labels = ImmutableSet.copyOf(labels);
+    this.testLogPaths = ImmutableList.of();
+    this.success = initShim.isSuccess();
+    this.hasAssumptionViolations = initShim.hasAssumptionViolations();
+    this.failureCount = initShim.getFailureCount();
+    this.failures = initShim.getFailures();
+    this.dependenciesPassTheirTests = initShim.getDependenciesPassTheirTests();
+    this.sequenceNumber = initShim.getSequenceNumber();
+    this.totalNumberOfTests = initShim.getTotalNumberOfTests();
+    this.initShim = null;
+  }
+
+  private TestResults(TestResults.Builder builder) {
+    this.buildTarget = builder.buildTarget;
+    this.testCases = builder.testCases.build();
+    this.contacts = builder.contacts.build();
+    this.labels = builder.labels.build();
+    this.testLogPaths = builder.testLogPaths.build();
+    if (builder.dependenciesPassTheirTestsIsSet()) {
+      initShim.setDependenciesPassTheirTests(builder.dependenciesPassTheirTests);
+    }
+    if (builder.sequenceNumberIsSet()) {
+      initShim.setSequenceNumber(builder.sequenceNumber);
+    }
+    if (builder.totalNumberOfTestsIsSet()) {
+      initShim.setTotalNumberOfTests(builder.totalNumberOfTests);
+    }
+    this.dependenciesPassTheirTests = initShim.getDependenciesPassTheirTests();
+    this.sequenceNumber = initShim.getSequenceNumber();
+    this.totalNumberOfTests = initShim.getTotalNumberOfTests();
+    this.success = initShim.isSuccess();
+    this.hasAssumptionViolations = initShim.hasAssumptionViolations();
+    this.failureCount = initShim.getFailureCount();
+    this.failures = initShim.getFailures();
+    this.initShim = null;
+  }
+
+  private TestResults(
+      BuildTarget buildTarget,
+      ImmutableList<TestCaseSummary> testCases,
+      ImmutableSet<String> contacts,
+      ImmutableSet<String> labels,
+      ImmutableList<Path> testLogPaths,
+      boolean dependenciesPassTheirTests,
+      int sequenceNumber,
+      int totalNumberOfTests) {
+    this.buildTarget = buildTarget;
+    this.testCases = testCases;
+    this.contacts = contacts;
+    this.labels = labels;
+    this.testLogPaths = testLogPaths;
+    this.dependenciesPassTheirTests = dependenciesPassTheirTests;
+    this.sequenceNumber = sequenceNumber;
+    this.totalNumberOfTests = totalNumberOfTests;
+    initShim.setDependenciesPassTheirTests(this.dependenciesPassTheirTests);
+    initShim.setSequenceNumber(this.sequenceNumber);
+    initShim.setTotalNumberOfTests(this.totalNumberOfTests);
+    this.success = initShim.isSuccess();
+    this.hasAssumptionViolations = initShim.hasAssumptionViolations();
+    this.failureCount = initShim.getFailureCount();
+    this.failures = initShim.getFailures();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean success;
+    private int successBuildStage;
+
+    boolean isSuccess() {
+      if (successBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (successBuildStage == STAGE_UNINITIALIZED) {
+        successBuildStage = STAGE_INITIALIZING;
+        this.success = TestResults.super.isSuccess();
+        successBuildStage = STAGE_INITIALIZED;
+      }
+      return this.success;
+    }
+    private boolean hasAssumptionViolations;
+    private int hasAssumptionViolationsBuildStage;
+
+    boolean hasAssumptionViolations() {
+      if (hasAssumptionViolationsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (hasAssumptionViolationsBuildStage == STAGE_UNINITIALIZED) {
+        hasAssumptionViolationsBuildStage = STAGE_INITIALIZING;
+        this.hasAssumptionViolations = TestResults.super.hasAssumptionViolations();
+        hasAssumptionViolationsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.hasAssumptionViolations;
+    }
+    private int failureCount;
+    private int failureCountBuildStage;
+
+    int getFailureCount() {
+      if (failureCountBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (failureCountBuildStage == STAGE_UNINITIALIZED) {
+        failureCountBuildStage = STAGE_INITIALIZING;
+        this.failureCount = TestResults.super.getFailureCount();
+        failureCountBuildStage = STAGE_INITIALIZED;
+      }
+      return this.failureCount;
+    }
+    private ImmutableList<TestCaseSummary> failures;
+    private int failuresBuildStage;
+
+    ImmutableList<TestCaseSummary> getFailures() {
+      if (failuresBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (failuresBuildStage == STAGE_UNINITIALIZED) {
+        failuresBuildStage = STAGE_INITIALIZING;
+        this.failures = Objects.requireNonNull(TestResults.super.getFailures(), "failures");
+        failuresBuildStage = STAGE_INITIALIZED;
+      }
+      return this.failures;
+    }
+    private boolean dependenciesPassTheirTests;
+    private int dependenciesPassTheirTestsBuildStage;
+
+    boolean getDependenciesPassTheirTests() {
+      if (dependenciesPassTheirTestsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (dependenciesPassTheirTestsBuildStage == STAGE_UNINITIALIZED) {
+        dependenciesPassTheirTestsBuildStage = STAGE_INITIALIZING;
+        this.dependenciesPassTheirTests = TestResults.super.getDependenciesPassTheirTests();
+        dependenciesPassTheirTestsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.dependenciesPassTheirTests;
+    }
+
+    void setDependenciesPassTheirTests(boolean dependenciesPassTheirTests) {
+      this.dependenciesPassTheirTests = dependenciesPassTheirTests;
+      dependenciesPassTheirTestsBuildStage = STAGE_INITIALIZED;
+    }
+    private int sequenceNumber;
+    private int sequenceNumberBuildStage;
+
+    int getSequenceNumber() {
+      if (sequenceNumberBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (sequenceNumberBuildStage == STAGE_UNINITIALIZED) {
+        sequenceNumberBuildStage = STAGE_INITIALIZING;
+        this.sequenceNumber = TestResults.super.getSequenceNumber();
+        sequenceNumberBuildStage = STAGE_INITIALIZED;
+      }
+      return this.sequenceNumber;
+    }
+
+    void setSequenceNumber(int sequenceNumber) {
+      this.sequenceNumber = sequenceNumber;
+      sequenceNumberBuildStage = STAGE_INITIALIZED;
+    }
+    private int totalNumberOfTests;
+    private int totalNumberOfTestsBuildStage;
+
+    int getTotalNumberOfTests() {
+      if (totalNumberOfTestsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (totalNumberOfTestsBuildStage == STAGE_UNINITIALIZED) {
+        totalNumberOfTestsBuildStage = STAGE_INITIALIZING;
+        this.totalNumberOfTests = TestResults.super.getTotalNumberOfTests();
+        totalNumberOfTestsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.totalNumberOfTests;
+    }
+
+    void setTotalNumberOfTests(int totalNumberOfTests) {
+      this.totalNumberOfTests = totalNumberOfTests;
+      totalNumberOfTestsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (successBuildStage == STAGE_INITIALIZING) attributes.add("success");
+      if (hasAssumptionViolationsBuildStage == STAGE_INITIALIZING) attributes.add("hasAssumptionViolations");
+      if (failureCountBuildStage == STAGE_INITIALIZING) attributes.add("failureCount");
+      if (failuresBuildStage == STAGE_INITIALIZING) attributes.add("failures");
+      if (dependenciesPassTheirTestsBuildStage == STAGE_INITIALIZING) attributes.add("dependenciesPassTheirTests");
+      if (sequenceNumberBuildStage == STAGE_INITIALIZING) attributes.add("sequenceNumber");
+      if (totalNumberOfTestsBuildStage == STAGE_INITIALIZING) attributes.add("totalNumberOfTests");
+      return "Cannot build TestResults, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code success} attribute
+   */
+  @Override
+  public boolean isSuccess() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isSuccess()
+        : this.success;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code hasAssumptionViolations} attribute
+   */
+  @Override
+  public boolean hasAssumptionViolations() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.hasAssumptionViolations()
+        : this.hasAssumptionViolations;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code failureCount} attribute
+   */
+  @Override
+  public int getFailureCount() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getFailureCount()
+        : this.failureCount;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code failures} attribute
+   */
+  @Override
+  public ImmutableList<TestCaseSummary> getFailures() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getFailures()
+        : this.failures;
+  }
+
+  /**
+   * @return The value of the {@code testCases} attribute
+   */
+  @Override
+  public ImmutableList<TestCaseSummary> getTestCases() {
+    return testCases;
+  }
+
+  /**
+   * @return The value of the {@code contacts} attribute
+   */
+  @Override
+  public ImmutableSet<String> getContacts() {
+    return contacts;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code testLogPaths} attribute
+   */
+  @Override
+  public ImmutableList<Path> getTestLogPaths() {
+    return testLogPaths;
+  }
+
+  /**
+   * @return The value of the {@code dependenciesPassTheirTests} attribute
+   */
+  @Override
+  public boolean getDependenciesPassTheirTests() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDependenciesPassTheirTests()
+        : this.dependenciesPassTheirTests;
+  }
+
+  /**
+   * @return The value of the {@code sequenceNumber} attribute
+   */
+  @Override
+  public int getSequenceNumber() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSequenceNumber()
+        : this.sequenceNumber;
+  }
+
+  /**
+   * @return The value of the {@code totalNumberOfTests} attribute
+   */
+  @Override
+  public int getTotalNumberOfTests() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTotalNumberOfTests()
+        : this.totalNumberOfTests;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTestResults#getBuildTarget() buildTarget} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildTarget
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestResults withBuildTarget(BuildTarget value) {
+    if (this.buildTarget == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "buildTarget");
+    return new TestResults(
+        newValue,
+        this.testCases,
+        this.contacts,
+        this.labels,
+        this.testLogPaths,
+        this.dependenciesPassTheirTests,
+        this.sequenceNumber,
+        this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTestResults#getTestCases() testCases}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TestResults withTestCases(TestCaseSummary... elements) {
+    ImmutableList<TestCaseSummary> newValue = ImmutableList.copyOf(elements);
+    return new TestResults(
+        this.buildTarget,
+        newValue,
+        this.contacts,
+        this.labels,
+        this.testLogPaths,
+        this.dependenciesPassTheirTests,
+        this.sequenceNumber,
+        this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTestResults#getTestCases() testCases}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of testCases elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TestResults withTestCases(Iterable<? extends TestCaseSummary> elements) {
+    if (this.testCases == elements) return this;
+    ImmutableList<TestCaseSummary> newValue = ImmutableList.copyOf(elements);
+    return new TestResults(
+        this.buildTarget,
+        newValue,
+        this.contacts,
+        this.labels,
+        this.testLogPaths,
+        this.dependenciesPassTheirTests,
+        this.sequenceNumber,
+        this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTestResults#getContacts() contacts}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TestResults withContacts(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new TestResults(
+        this.buildTarget,
+        this.testCases,
+        newValue,
+        this.labels,
+        this.testLogPaths,
+        this.dependenciesPassTheirTests,
+        this.sequenceNumber,
+        this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTestResults#getContacts() contacts}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of contacts elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TestResults withContacts(Iterable<String> elements) {
+    if (this.contacts == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new TestResults(
+        this.buildTarget,
+        this.testCases,
+        newValue,
+        this.labels,
+        this.testLogPaths,
+        this.dependenciesPassTheirTests,
+        this.sequenceNumber,
+        this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTestResults#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TestResults withLabels(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new TestResults(
+        this.buildTarget,
+        this.testCases,
+        this.contacts,
+        newValue,
+        this.testLogPaths,
+        this.dependenciesPassTheirTests,
+        this.sequenceNumber,
+        this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTestResults#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TestResults withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new TestResults(
+        this.buildTarget,
+        this.testCases,
+        this.contacts,
+        newValue,
+        this.testLogPaths,
+        this.dependenciesPassTheirTests,
+        this.sequenceNumber,
+        this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTestResults#getTestLogPaths() testLogPaths}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TestResults withTestLogPaths(Path... elements) {
+    ImmutableList<Path> newValue = ImmutableList.copyOf(elements);
+    return new TestResults(
+        this.buildTarget,
+        this.testCases,
+        this.contacts,
+        this.labels,
+        newValue,
+        this.dependenciesPassTheirTests,
+        this.sequenceNumber,
+        this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTestResults#getTestLogPaths() testLogPaths}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of testLogPaths elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TestResults withTestLogPaths(Iterable<? extends Path> elements) {
+    if (this.testLogPaths == elements) return this;
+    ImmutableList<Path> newValue = ImmutableList.copyOf(elements);
+    return new TestResults(
+        this.buildTarget,
+        this.testCases,
+        this.contacts,
+        this.labels,
+        newValue,
+        this.dependenciesPassTheirTests,
+        this.sequenceNumber,
+        this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTestResults#getDependenciesPassTheirTests() dependenciesPassTheirTests} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for dependenciesPassTheirTests
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestResults withDependenciesPassTheirTests(boolean value) {
+    if (this.dependenciesPassTheirTests == value) return this;
+    return new TestResults(
+        this.buildTarget,
+        this.testCases,
+        this.contacts,
+        this.labels,
+        this.testLogPaths,
+        value,
+        this.sequenceNumber,
+        this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTestResults#getSequenceNumber() sequenceNumber} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sequenceNumber
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestResults withSequenceNumber(int value) {
+    if (this.sequenceNumber == value) return this;
+    return new TestResults(
+        this.buildTarget,
+        this.testCases,
+        this.contacts,
+        this.labels,
+        this.testLogPaths,
+        this.dependenciesPassTheirTests,
+        value,
+        this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTestResults#getTotalNumberOfTests() totalNumberOfTests} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for totalNumberOfTests
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestResults withTotalNumberOfTests(int value) {
+    if (this.totalNumberOfTests == value) return this;
+    return new TestResults(
+        this.buildTarget,
+        this.testCases,
+        this.contacts,
+        this.labels,
+        this.testLogPaths,
+        this.dependenciesPassTheirTests,
+        this.sequenceNumber,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TestResults} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TestResults
+        && equalTo((TestResults) another);
+  }
+
+  private boolean equalTo(TestResults another) {
+    return buildTarget.equals(another.buildTarget)
+        && success == another.success
+        && hasAssumptionViolations == another.hasAssumptionViolations
+        && failureCount == another.failureCount
+        && failures.equals(another.failures)
+        && testCases.equals(another.testCases)
+        && contacts.equals(another.contacts)
+        && labels.equals(another.labels)
+        && testLogPaths.equals(another.testLogPaths)
+        && dependenciesPassTheirTests == another.dependenciesPassTheirTests
+        && sequenceNumber == another.sequenceNumber
+        && totalNumberOfTests == another.totalNumberOfTests;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code success}, {@code hasAssumptionViolations}, {@code failureCount}, {@code failures}, {@code testCases}, {@code contacts}, {@code labels}, {@code testLogPaths}, {@code dependenciesPassTheirTests}, {@code sequenceNumber}, {@code totalNumberOfTests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + Booleans.hashCode(success);
+    h += (h << 5) + Booleans.hashCode(hasAssumptionViolations);
+    h += (h << 5) + failureCount;
+    h += (h << 5) + failures.hashCode();
+    h += (h << 5) + testCases.hashCode();
+    h += (h << 5) + contacts.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + testLogPaths.hashCode();
+    h += (h << 5) + Booleans.hashCode(dependenciesPassTheirTests);
+    h += (h << 5) + sequenceNumber;
+    h += (h << 5) + totalNumberOfTests;
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code TestResults} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param testCases The value for the {@code testCases} attribute
+   * @param contacts The value for the {@code contacts} attribute
+   * @param labels The value for the {@code labels} attribute
+   * @return An immutable TestResults instance
+   */
+  public static TestResults of(BuildTarget buildTarget, ImmutableList<TestCaseSummary> testCases, ImmutableSet<String> contacts, ImmutableSet<String> labels) {
+    return of(buildTarget, (Iterable<? extends TestCaseSummary>) testCases, (Iterable<String>) contacts, (Iterable<String>) labels);
+  }
+
+  /**
+   * Construct a new immutable {@code TestResults} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param testCases The value for the {@code testCases} attribute
+   * @param contacts The value for the {@code contacts} attribute
+   * @param labels The value for the {@code labels} attribute
+   * @return An immutable TestResults instance
+   */
+  public static TestResults of(BuildTarget buildTarget, Iterable<? extends TestCaseSummary> testCases, Iterable<String> contacts, Iterable<String> labels) {
+    return new TestResults(buildTarget, testCases, contacts, labels);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractTestResults} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable TestResults instance
+   */
+  static TestResults copyOf(AbstractTestResults instance) {
+    if (instance instanceof TestResults) {
+      return (TestResults) instance;
+    }
+    return TestResults.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link TestResults TestResults}.
+   * @return A new TestResults builder
+   */
+  public static TestResults.Builder builder() {
+    return new TestResults.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link TestResults TestResults}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BUILD_TARGET = 0x1L;
+    private static final long OPT_BIT_DEPENDENCIES_PASS_THEIR_TESTS = 0x1L;
+    private static final long OPT_BIT_SEQUENCE_NUMBER = 0x2L;
+    private static final long OPT_BIT_TOTAL_NUMBER_OF_TESTS = 0x4L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable BuildTarget buildTarget;
+    private ImmutableList.Builder<TestCaseSummary> testCases = ImmutableList.builder();
+    private ImmutableSet.Builder<String> contacts = ImmutableSet.builder();
+    private ImmutableSet.Builder<String> labels = ImmutableSet.builder();
+    private ImmutableList.Builder<Path> testLogPaths = ImmutableList.builder();
+    private boolean dependenciesPassTheirTests;
+    private int sequenceNumber;
+    private int totalNumberOfTests;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code TestResults} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(TestResults instance) {
+      return from((AbstractTestResults) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractTestResults} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractTestResults instance) {
+      Objects.requireNonNull(instance, "instance");
+      setBuildTarget(instance.getBuildTarget());
+      addAllTestCases(instance.getTestCases());
+      addAllContacts(instance.getContacts());
+      addAllLabels(instance.getLabels());
+      addAllTestLogPaths(instance.getTestLogPaths());
+      setDependenciesPassTheirTests(instance.getDependenciesPassTheirTests());
+      setSequenceNumber(instance.getSequenceNumber());
+      setTotalNumberOfTests(instance.getTotalNumberOfTests());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractTestResults#getBuildTarget() buildTarget} attribute.
+     * @param buildTarget The value for buildTarget 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildTarget(BuildTarget buildTarget) {
+      this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+      initBits &= ~INIT_BIT_BUILD_TARGET;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractTestResults#getTestCases() testCases} list.
+     * @param element A testCases element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTestCases(TestCaseSummary element) {
+      this.testCases.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestResults#getTestCases() testCases} list.
+     * @param elements An array of testCases elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTestCases(TestCaseSummary... elements) {
+      this.testCases.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractTestResults#getTestCases() testCases} list.
+     * @param elements An iterable of testCases elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestCases(Iterable<? extends TestCaseSummary> elements) {
+      this.testCases = ImmutableList.builder();
+      return addAllTestCases(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestResults#getTestCases() testCases} list.
+     * @param elements An iterable of testCases elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTestCases(Iterable<? extends TestCaseSummary> elements) {
+      this.testCases.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractTestResults#getContacts() contacts} set.
+     * @param element A contacts element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addContacts(String element) {
+      this.contacts.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestResults#getContacts() contacts} set.
+     * @param elements An array of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addContacts(String... elements) {
+      this.contacts.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractTestResults#getContacts() contacts} set.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setContacts(Iterable<String> elements) {
+      this.contacts = ImmutableSet.builder();
+      return addAllContacts(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestResults#getContacts() contacts} set.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllContacts(Iterable<String> elements) {
+      this.contacts.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractTestResults#getLabels() labels} set.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestResults#getLabels() labels} set.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractTestResults#getLabels() labels} set.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSet.builder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestResults#getLabels() labels} set.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractTestResults#getTestLogPaths() testLogPaths} list.
+     * @param element A testLogPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTestLogPaths(Path element) {
+      this.testLogPaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestResults#getTestLogPaths() testLogPaths} list.
+     * @param elements An array of testLogPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTestLogPaths(Path... elements) {
+      this.testLogPaths.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractTestResults#getTestLogPaths() testLogPaths} list.
+     * @param elements An iterable of testLogPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestLogPaths(Iterable<? extends Path> elements) {
+      this.testLogPaths = ImmutableList.builder();
+      return addAllTestLogPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestResults#getTestLogPaths() testLogPaths} list.
+     * @param elements An iterable of testLogPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTestLogPaths(Iterable<? extends Path> elements) {
+      this.testLogPaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractTestResults#getDependenciesPassTheirTests() dependenciesPassTheirTests} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractTestResults#getDependenciesPassTheirTests() dependenciesPassTheirTests}.</em>
+     * @param dependenciesPassTheirTests The value for dependenciesPassTheirTests 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDependenciesPassTheirTests(boolean dependenciesPassTheirTests) {
+      this.dependenciesPassTheirTests = dependenciesPassTheirTests;
+      optBits |= OPT_BIT_DEPENDENCIES_PASS_THEIR_TESTS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractTestResults#getSequenceNumber() sequenceNumber} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractTestResults#getSequenceNumber() sequenceNumber}.</em>
+     * @param sequenceNumber The value for sequenceNumber 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSequenceNumber(int sequenceNumber) {
+      this.sequenceNumber = sequenceNumber;
+      optBits |= OPT_BIT_SEQUENCE_NUMBER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractTestResults#getTotalNumberOfTests() totalNumberOfTests} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractTestResults#getTotalNumberOfTests() totalNumberOfTests}.</em>
+     * @param totalNumberOfTests The value for totalNumberOfTests 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTotalNumberOfTests(int totalNumberOfTests) {
+      this.totalNumberOfTests = totalNumberOfTests;
+      optBits |= OPT_BIT_TOTAL_NUMBER_OF_TESTS;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link TestResults TestResults}.
+     * @return An immutable instance of TestResults
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public TestResults build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new TestResults(this);
+    }
+
+    private boolean dependenciesPassTheirTestsIsSet() {
+      return (optBits & OPT_BIT_DEPENDENCIES_PASS_THEIR_TESTS) != 0;
+    }
+
+    private boolean sequenceNumberIsSet() {
+      return (optBits & OPT_BIT_SEQUENCE_NUMBER) != 0;
+    }
+
+    private boolean totalNumberOfTestsIsSet() {
+      return (optBits & OPT_BIT_TOTAL_NUMBER_OF_TESTS) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_BUILD_TARGET) != 0) attributes.add("buildTarget");
+      return "Cannot build TestResults, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,1208 @@
+package com.facebook.buck.test;
+
+import com.facebook.buck.test.selectors.TestSelectorList;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractTestRunningOptions}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code TestRunningOptions.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractTestRunningOptions"})
+@Immutable
+public final class TestRunningOptions extends AbstractTestRunningOptions {
+  private final boolean codeCoverageEnabled;
+  private final boolean runAllTests;
+  private final TestSelectorList testSelectorList;
+  private final boolean shouldExplainTestSelectorList;
+  private final boolean shufflingTests;
+  private final @Nullable String pathToXmlTestOutput;
+  private final @Nullable String pathToJavaAgent;
+  private final ImmutableSet<CoverageReportFormat> coverageReportFormats;
+  private final String coverageReportTitle;
+  private final ImmutableMap<String, String> environmentOverrides;
+  private final @Nullable String coverageExcludes;
+  private final @Nullable String coverageIncludes;
+
+  private TestRunningOptions(TestRunningOptions.Builder builder) {
+    this.pathToXmlTestOutput = builder.pathToXmlTestOutput;
+    this.pathToJavaAgent = builder.pathToJavaAgent;
+    this.environmentOverrides = builder.environmentOverrides.build();
+    this.coverageExcludes = builder.coverageExcludes;
+    this.coverageIncludes = builder.coverageIncludes;
+    if (builder.codeCoverageEnabledIsSet()) {
+      initShim.setCodeCoverageEnabled(builder.codeCoverageEnabled);
+    }
+    if (builder.runAllTestsIsSet()) {
+      initShim.setRunAllTests(builder.runAllTests);
+    }
+    if (builder.testSelectorList != null) {
+      initShim.setTestSelectorList(builder.testSelectorList);
+    }
+    if (builder.shouldExplainTestSelectorListIsSet()) {
+      initShim.setShouldExplainTestSelectorList(builder.shouldExplainTestSelectorList);
+    }
+    if (builder.shufflingTestsIsSet()) {
+      initShim.setShufflingTests(builder.shufflingTests);
+    }
+    if (builder.coverageReportFormatsIsSet()) {
+      initShim.setCoverageReportFormats(Sets.immutableEnumSet(builder.coverageReportFormats.build()));
+    }
+    if (builder.coverageReportTitle != null) {
+      initShim.setCoverageReportTitle(builder.coverageReportTitle);
+    }
+    this.codeCoverageEnabled = initShim.isCodeCoverageEnabled();
+    this.runAllTests = initShim.isRunAllTests();
+    this.testSelectorList = initShim.getTestSelectorList();
+    this.shouldExplainTestSelectorList = initShim.shouldExplainTestSelectorList();
+    this.shufflingTests = initShim.isShufflingTests();
+    this.coverageReportFormats = initShim.getCoverageReportFormats();
+    this.coverageReportTitle = initShim.getCoverageReportTitle();
+    this.initShim = null;
+  }
+
+  private TestRunningOptions(
+      boolean codeCoverageEnabled,
+      boolean runAllTests,
+      TestSelectorList testSelectorList,
+      boolean shouldExplainTestSelectorList,
+      boolean shufflingTests,
+      @Nullable String pathToXmlTestOutput,
+      @Nullable String pathToJavaAgent,
+      ImmutableSet<CoverageReportFormat> coverageReportFormats,
+      String coverageReportTitle,
+      ImmutableMap<String, String> environmentOverrides,
+      @Nullable String coverageExcludes,
+      @Nullable String coverageIncludes) {
+    this.codeCoverageEnabled = codeCoverageEnabled;
+    this.runAllTests = runAllTests;
+    this.testSelectorList = testSelectorList;
+    this.shouldExplainTestSelectorList = shouldExplainTestSelectorList;
+    this.shufflingTests = shufflingTests;
+    this.pathToXmlTestOutput = pathToXmlTestOutput;
+    this.pathToJavaAgent = pathToJavaAgent;
+    this.coverageReportFormats = coverageReportFormats;
+    this.coverageReportTitle = coverageReportTitle;
+    this.environmentOverrides = environmentOverrides;
+    this.coverageExcludes = coverageExcludes;
+    this.coverageIncludes = coverageIncludes;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean codeCoverageEnabled;
+    private int codeCoverageEnabledBuildStage;
+
+    boolean isCodeCoverageEnabled() {
+      if (codeCoverageEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (codeCoverageEnabledBuildStage == STAGE_UNINITIALIZED) {
+        codeCoverageEnabledBuildStage = STAGE_INITIALIZING;
+        this.codeCoverageEnabled = TestRunningOptions.super.isCodeCoverageEnabled();
+        codeCoverageEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.codeCoverageEnabled;
+    }
+
+    void setCodeCoverageEnabled(boolean codeCoverageEnabled) {
+      this.codeCoverageEnabled = codeCoverageEnabled;
+      codeCoverageEnabledBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean runAllTests;
+    private int runAllTestsBuildStage;
+
+    boolean isRunAllTests() {
+      if (runAllTestsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (runAllTestsBuildStage == STAGE_UNINITIALIZED) {
+        runAllTestsBuildStage = STAGE_INITIALIZING;
+        this.runAllTests = TestRunningOptions.super.isRunAllTests();
+        runAllTestsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.runAllTests;
+    }
+
+    void setRunAllTests(boolean runAllTests) {
+      this.runAllTests = runAllTests;
+      runAllTestsBuildStage = STAGE_INITIALIZED;
+    }
+    private TestSelectorList testSelectorList;
+    private int testSelectorListBuildStage;
+
+    TestSelectorList getTestSelectorList() {
+      if (testSelectorListBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (testSelectorListBuildStage == STAGE_UNINITIALIZED) {
+        testSelectorListBuildStage = STAGE_INITIALIZING;
+        this.testSelectorList = Objects.requireNonNull(TestRunningOptions.super.getTestSelectorList(), "testSelectorList");
+        testSelectorListBuildStage = STAGE_INITIALIZED;
+      }
+      return this.testSelectorList;
+    }
+
+    void setTestSelectorList(TestSelectorList testSelectorList) {
+      this.testSelectorList = testSelectorList;
+      testSelectorListBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean shouldExplainTestSelectorList;
+    private int shouldExplainTestSelectorListBuildStage;
+
+    boolean shouldExplainTestSelectorList() {
+      if (shouldExplainTestSelectorListBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shouldExplainTestSelectorListBuildStage == STAGE_UNINITIALIZED) {
+        shouldExplainTestSelectorListBuildStage = STAGE_INITIALIZING;
+        this.shouldExplainTestSelectorList = TestRunningOptions.super.shouldExplainTestSelectorList();
+        shouldExplainTestSelectorListBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shouldExplainTestSelectorList;
+    }
+
+    void setShouldExplainTestSelectorList(boolean shouldExplainTestSelectorList) {
+      this.shouldExplainTestSelectorList = shouldExplainTestSelectorList;
+      shouldExplainTestSelectorListBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean shufflingTests;
+    private int shufflingTestsBuildStage;
+
+    boolean isShufflingTests() {
+      if (shufflingTestsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shufflingTestsBuildStage == STAGE_UNINITIALIZED) {
+        shufflingTestsBuildStage = STAGE_INITIALIZING;
+        this.shufflingTests = TestRunningOptions.super.isShufflingTests();
+        shufflingTestsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shufflingTests;
+    }
+
+    void setShufflingTests(boolean shufflingTests) {
+      this.shufflingTests = shufflingTests;
+      shufflingTestsBuildStage = STAGE_INITIALIZED;
+    }
+    private ImmutableSet<CoverageReportFormat> coverageReportFormats;
+    private int coverageReportFormatsBuildStage;
+
+    ImmutableSet<CoverageReportFormat> getCoverageReportFormats() {
+      if (coverageReportFormatsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (coverageReportFormatsBuildStage == STAGE_UNINITIALIZED) {
+        coverageReportFormatsBuildStage = STAGE_INITIALIZING;
+        this.coverageReportFormats = Sets.immutableEnumSet(TestRunningOptions.super.getCoverageReportFormats());
+        coverageReportFormatsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.coverageReportFormats;
+    }
+
+    void setCoverageReportFormats(ImmutableSet<CoverageReportFormat> coverageReportFormats) {
+      this.coverageReportFormats = coverageReportFormats;
+      coverageReportFormatsBuildStage = STAGE_INITIALIZED;
+    }
+    private String coverageReportTitle;
+    private int coverageReportTitleBuildStage;
+
+    String getCoverageReportTitle() {
+      if (coverageReportTitleBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (coverageReportTitleBuildStage == STAGE_UNINITIALIZED) {
+        coverageReportTitleBuildStage = STAGE_INITIALIZING;
+        this.coverageReportTitle = Objects.requireNonNull(TestRunningOptions.super.getCoverageReportTitle(), "coverageReportTitle");
+        coverageReportTitleBuildStage = STAGE_INITIALIZED;
+      }
+      return this.coverageReportTitle;
+    }
+
+    void setCoverageReportTitle(String coverageReportTitle) {
+      this.coverageReportTitle = coverageReportTitle;
+      coverageReportTitleBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (codeCoverageEnabledBuildStage == STAGE_INITIALIZING) attributes.add("codeCoverageEnabled");
+      if (runAllTestsBuildStage == STAGE_INITIALIZING) attributes.add("runAllTests");
+      if (testSelectorListBuildStage == STAGE_INITIALIZING) attributes.add("testSelectorList");
+      if (shouldExplainTestSelectorListBuildStage == STAGE_INITIALIZING) attributes.add("shouldExplainTestSelectorList");
+      if (shufflingTestsBuildStage == STAGE_INITIALIZING) attributes.add("shufflingTests");
+      if (coverageReportFormatsBuildStage == STAGE_INITIALIZING) attributes.add("coverageReportFormats");
+      if (coverageReportTitleBuildStage == STAGE_INITIALIZING) attributes.add("coverageReportTitle");
+      return "Cannot build TestRunningOptions, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code codeCoverageEnabled} attribute
+   */
+  @Override
+  public boolean isCodeCoverageEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isCodeCoverageEnabled()
+        : this.codeCoverageEnabled;
+  }
+
+  /**
+   * @return The value of the {@code runAllTests} attribute
+   */
+  @Override
+  public boolean isRunAllTests() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isRunAllTests()
+        : this.runAllTests;
+  }
+
+  /**
+   * @return The value of the {@code testSelectorList} attribute
+   */
+  @Override
+  public TestSelectorList getTestSelectorList() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTestSelectorList()
+        : this.testSelectorList;
+  }
+
+  /**
+   * @return The value of the {@code shouldExplainTestSelectorList} attribute
+   */
+  @Override
+  public boolean shouldExplainTestSelectorList() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.shouldExplainTestSelectorList()
+        : this.shouldExplainTestSelectorList;
+  }
+
+  /**
+   * @return The value of the {@code shufflingTests} attribute
+   */
+  @Override
+  public boolean isShufflingTests() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isShufflingTests()
+        : this.shufflingTests;
+  }
+
+  /**
+   * @return The value of the {@code pathToXmlTestOutput} attribute
+   */
+  @Override
+  public Optional<String> getPathToXmlTestOutput() {
+    return Optional.ofNullable(pathToXmlTestOutput);
+  }
+
+  /**
+   * @return The value of the {@code pathToJavaAgent} attribute
+   */
+  @Override
+  public Optional<String> getPathToJavaAgent() {
+    return Optional.ofNullable(pathToJavaAgent);
+  }
+
+  /**
+   * @return The value of the {@code coverageReportFormats} attribute
+   */
+  @Override
+  public ImmutableSet<CoverageReportFormat> getCoverageReportFormats() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCoverageReportFormats()
+        : this.coverageReportFormats;
+  }
+
+  /**
+   * @return The value of the {@code coverageReportTitle} attribute
+   */
+  @Override
+  public String getCoverageReportTitle() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCoverageReportTitle()
+        : this.coverageReportTitle;
+  }
+
+  /**
+   * @return The value of the {@code environmentOverrides} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironmentOverrides() {
+    return environmentOverrides;
+  }
+
+  /**
+   * @return The value of the {@code coverageExcludes} attribute
+   */
+  @Override
+  public Optional<String> getCoverageExcludes() {
+    return Optional.ofNullable(coverageExcludes);
+  }
+
+  /**
+   * @return The value of the {@code coverageIncludes} attribute
+   */
+  @Override
+  public Optional<String> getCoverageIncludes() {
+    return Optional.ofNullable(coverageIncludes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTestRunningOptions#isCodeCoverageEnabled() codeCoverageEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for codeCoverageEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestRunningOptions withCodeCoverageEnabled(boolean value) {
+    if (this.codeCoverageEnabled == value) return this;
+    return new TestRunningOptions(
+        value,
+        this.runAllTests,
+        this.testSelectorList,
+        this.shouldExplainTestSelectorList,
+        this.shufflingTests,
+        this.pathToXmlTestOutput,
+        this.pathToJavaAgent,
+        this.coverageReportFormats,
+        this.coverageReportTitle,
+        this.environmentOverrides,
+        this.coverageExcludes,
+        this.coverageIncludes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTestRunningOptions#isRunAllTests() runAllTests} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for runAllTests
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestRunningOptions withRunAllTests(boolean value) {
+    if (this.runAllTests == value) return this;
+    return new TestRunningOptions(
+        this.codeCoverageEnabled,
+        value,
+        this.testSelectorList,
+        this.shouldExplainTestSelectorList,
+        this.shufflingTests,
+        this.pathToXmlTestOutput,
+        this.pathToJavaAgent,
+        this.coverageReportFormats,
+        this.coverageReportTitle,
+        this.environmentOverrides,
+        this.coverageExcludes,
+        this.coverageIncludes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTestRunningOptions#getTestSelectorList() testSelectorList} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for testSelectorList
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestRunningOptions withTestSelectorList(TestSelectorList value) {
+    if (this.testSelectorList == value) return this;
+    TestSelectorList newValue = Objects.requireNonNull(value, "testSelectorList");
+    return new TestRunningOptions(
+        this.codeCoverageEnabled,
+        this.runAllTests,
+        newValue,
+        this.shouldExplainTestSelectorList,
+        this.shufflingTests,
+        this.pathToXmlTestOutput,
+        this.pathToJavaAgent,
+        this.coverageReportFormats,
+        this.coverageReportTitle,
+        this.environmentOverrides,
+        this.coverageExcludes,
+        this.coverageIncludes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTestRunningOptions#shouldExplainTestSelectorList() shouldExplainTestSelectorList} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for shouldExplainTestSelectorList
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestRunningOptions withShouldExplainTestSelectorList(boolean value) {
+    if (this.shouldExplainTestSelectorList == value) return this;
+    return new TestRunningOptions(
+        this.codeCoverageEnabled,
+        this.runAllTests,
+        this.testSelectorList,
+        value,
+        this.shufflingTests,
+        this.pathToXmlTestOutput,
+        this.pathToJavaAgent,
+        this.coverageReportFormats,
+        this.coverageReportTitle,
+        this.environmentOverrides,
+        this.coverageExcludes,
+        this.coverageIncludes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTestRunningOptions#isShufflingTests() shufflingTests} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for shufflingTests
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestRunningOptions withShufflingTests(boolean value) {
+    if (this.shufflingTests == value) return this;
+    return new TestRunningOptions(
+        this.codeCoverageEnabled,
+        this.runAllTests,
+        this.testSelectorList,
+        this.shouldExplainTestSelectorList,
+        value,
+        this.pathToXmlTestOutput,
+        this.pathToJavaAgent,
+        this.coverageReportFormats,
+        this.coverageReportTitle,
+        this.environmentOverrides,
+        this.coverageExcludes,
+        this.coverageIncludes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractTestRunningOptions#getPathToXmlTestOutput() pathToXmlTestOutput} attribute.
+   * @param value The value for pathToXmlTestOutput
+   * @return A modified copy of {@code this} object
+   */
+  public final TestRunningOptions withPathToXmlTestOutput(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "pathToXmlTestOutput");
+    if (Objects.equals(this.pathToXmlTestOutput, newValue)) return this;
+    return new TestRunningOptions(
+        this.codeCoverageEnabled,
+        this.runAllTests,
+        this.testSelectorList,
+        this.shouldExplainTestSelectorList,
+        this.shufflingTests,
+        newValue,
+        this.pathToJavaAgent,
+        this.coverageReportFormats,
+        this.coverageReportTitle,
+        this.environmentOverrides,
+        this.coverageExcludes,
+        this.coverageIncludes);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractTestRunningOptions#getPathToXmlTestOutput() pathToXmlTestOutput} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for pathToXmlTestOutput
+   * @return A modified copy of {@code this} object
+   */
+  public final TestRunningOptions withPathToXmlTestOutput(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.pathToXmlTestOutput, value)) return this;
+    return new TestRunningOptions(
+        this.codeCoverageEnabled,
+        this.runAllTests,
+        this.testSelectorList,
+        this.shouldExplainTestSelectorList,
+        this.shufflingTests,
+        value,
+        this.pathToJavaAgent,
+        this.coverageReportFormats,
+        this.coverageReportTitle,
+        this.environmentOverrides,
+        this.coverageExcludes,
+        this.coverageIncludes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractTestRunningOptions#getPathToJavaAgent() pathToJavaAgent} attribute.
+   * @param value The value for pathToJavaAgent
+   * @return A modified copy of {@code this} object
+   */
+  public final TestRunningOptions withPathToJavaAgent(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "pathToJavaAgent");
+    if (Objects.equals(this.pathToJavaAgent, newValue)) return this;
+    return new TestRunningOptions(
+        this.codeCoverageEnabled,
+        this.runAllTests,
+        this.testSelectorList,
+        this.shouldExplainTestSelectorList,
+        this.shufflingTests,
+        this.pathToXmlTestOutput,
+        newValue,
+        this.coverageReportFormats,
+        this.coverageReportTitle,
+        this.environmentOverrides,
+        this.coverageExcludes,
+        this.coverageIncludes);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractTestRunningOptions#getPathToJavaAgent() pathToJavaAgent} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for pathToJavaAgent
+   * @return A modified copy of {@code this} object
+   */
+  public final TestRunningOptions withPathToJavaAgent(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.pathToJavaAgent, value)) return this;
+    return new TestRunningOptions(
+        this.codeCoverageEnabled,
+        this.runAllTests,
+        this.testSelectorList,
+        this.shouldExplainTestSelectorList,
+        this.shufflingTests,
+        this.pathToXmlTestOutput,
+        value,
+        this.coverageReportFormats,
+        this.coverageReportTitle,
+        this.environmentOverrides,
+        this.coverageExcludes,
+        this.coverageIncludes);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTestRunningOptions#getCoverageReportFormats() coverageReportFormats}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TestRunningOptions withCoverageReportFormats(CoverageReportFormat... elements) {
+    ImmutableSet<CoverageReportFormat> newValue = Sets.immutableEnumSet(Arrays.asList(elements));
+    return new TestRunningOptions(
+        this.codeCoverageEnabled,
+        this.runAllTests,
+        this.testSelectorList,
+        this.shouldExplainTestSelectorList,
+        this.shufflingTests,
+        this.pathToXmlTestOutput,
+        this.pathToJavaAgent,
+        newValue,
+        this.coverageReportTitle,
+        this.environmentOverrides,
+        this.coverageExcludes,
+        this.coverageIncludes);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTestRunningOptions#getCoverageReportFormats() coverageReportFormats}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of coverageReportFormats elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TestRunningOptions withCoverageReportFormats(Iterable<CoverageReportFormat> elements) {
+    if (this.coverageReportFormats == elements) return this;
+    ImmutableSet<CoverageReportFormat> newValue = Sets.immutableEnumSet(elements);
+    return new TestRunningOptions(
+        this.codeCoverageEnabled,
+        this.runAllTests,
+        this.testSelectorList,
+        this.shouldExplainTestSelectorList,
+        this.shufflingTests,
+        this.pathToXmlTestOutput,
+        this.pathToJavaAgent,
+        newValue,
+        this.coverageReportTitle,
+        this.environmentOverrides,
+        this.coverageExcludes,
+        this.coverageIncludes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTestRunningOptions#getCoverageReportTitle() coverageReportTitle} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for coverageReportTitle
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestRunningOptions withCoverageReportTitle(String value) {
+    if (this.coverageReportTitle.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "coverageReportTitle");
+    return new TestRunningOptions(
+        this.codeCoverageEnabled,
+        this.runAllTests,
+        this.testSelectorList,
+        this.shouldExplainTestSelectorList,
+        this.shufflingTests,
+        this.pathToXmlTestOutput,
+        this.pathToJavaAgent,
+        this.coverageReportFormats,
+        newValue,
+        this.environmentOverrides,
+        this.coverageExcludes,
+        this.coverageIncludes);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractTestRunningOptions#getEnvironmentOverrides() environmentOverrides} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the environmentOverrides map
+   * @return A modified copy of {@code this} object
+   */
+  public final TestRunningOptions withEnvironmentOverrides(Map<String, ? extends String> entries) {
+    if (this.environmentOverrides == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new TestRunningOptions(
+        this.codeCoverageEnabled,
+        this.runAllTests,
+        this.testSelectorList,
+        this.shouldExplainTestSelectorList,
+        this.shufflingTests,
+        this.pathToXmlTestOutput,
+        this.pathToJavaAgent,
+        this.coverageReportFormats,
+        this.coverageReportTitle,
+        newValue,
+        this.coverageExcludes,
+        this.coverageIncludes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractTestRunningOptions#getCoverageExcludes() coverageExcludes} attribute.
+   * @param value The value for coverageExcludes
+   * @return A modified copy of {@code this} object
+   */
+  public final TestRunningOptions withCoverageExcludes(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "coverageExcludes");
+    if (Objects.equals(this.coverageExcludes, newValue)) return this;
+    return new TestRunningOptions(
+        this.codeCoverageEnabled,
+        this.runAllTests,
+        this.testSelectorList,
+        this.shouldExplainTestSelectorList,
+        this.shufflingTests,
+        this.pathToXmlTestOutput,
+        this.pathToJavaAgent,
+        this.coverageReportFormats,
+        this.coverageReportTitle,
+        this.environmentOverrides,
+        newValue,
+        this.coverageIncludes);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractTestRunningOptions#getCoverageExcludes() coverageExcludes} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for coverageExcludes
+   * @return A modified copy of {@code this} object
+   */
+  public final TestRunningOptions withCoverageExcludes(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.coverageExcludes, value)) return this;
+    return new TestRunningOptions(
+        this.codeCoverageEnabled,
+        this.runAllTests,
+        this.testSelectorList,
+        this.shouldExplainTestSelectorList,
+        this.shufflingTests,
+        this.pathToXmlTestOutput,
+        this.pathToJavaAgent,
+        this.coverageReportFormats,
+        this.coverageReportTitle,
+        this.environmentOverrides,
+        value,
+        this.coverageIncludes);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractTestRunningOptions#getCoverageIncludes() coverageIncludes} attribute.
+   * @param value The value for coverageIncludes
+   * @return A modified copy of {@code this} object
+   */
+  public final TestRunningOptions withCoverageIncludes(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "coverageIncludes");
+    if (Objects.equals(this.coverageIncludes, newValue)) return this;
+    return new TestRunningOptions(
+        this.codeCoverageEnabled,
+        this.runAllTests,
+        this.testSelectorList,
+        this.shouldExplainTestSelectorList,
+        this.shufflingTests,
+        this.pathToXmlTestOutput,
+        this.pathToJavaAgent,
+        this.coverageReportFormats,
+        this.coverageReportTitle,
+        this.environmentOverrides,
+        this.coverageExcludes,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractTestRunningOptions#getCoverageIncludes() coverageIncludes} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for coverageIncludes
+   * @return A modified copy of {@code this} object
+   */
+  public final TestRunningOptions withCoverageIncludes(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.coverageIncludes, value)) return this;
+    return new TestRunningOptions(
+        this.codeCoverageEnabled,
+        this.runAllTests,
+        this.testSelectorList,
+        this.shouldExplainTestSelectorList,
+        this.shufflingTests,
+        this.pathToXmlTestOutput,
+        this.pathToJavaAgent,
+        this.coverageReportFormats,
+        this.coverageReportTitle,
+        this.environmentOverrides,
+        this.coverageExcludes,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TestRunningOptions} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TestRunningOptions
+        && equalTo((TestRunningOptions) another);
+  }
+
+  private boolean equalTo(TestRunningOptions another) {
+    return codeCoverageEnabled == another.codeCoverageEnabled
+        && runAllTests == another.runAllTests
+        && testSelectorList.equals(another.testSelectorList)
+        && shouldExplainTestSelectorList == another.shouldExplainTestSelectorList
+        && shufflingTests == another.shufflingTests
+        && Objects.equals(pathToXmlTestOutput, another.pathToXmlTestOutput)
+        && Objects.equals(pathToJavaAgent, another.pathToJavaAgent)
+        && coverageReportFormats.equals(another.coverageReportFormats)
+        && coverageReportTitle.equals(another.coverageReportTitle)
+        && environmentOverrides.equals(another.environmentOverrides)
+        && Objects.equals(coverageExcludes, another.coverageExcludes)
+        && Objects.equals(coverageIncludes, another.coverageIncludes);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code codeCoverageEnabled}, {@code runAllTests}, {@code testSelectorList}, {@code shouldExplainTestSelectorList}, {@code shufflingTests}, {@code pathToXmlTestOutput}, {@code pathToJavaAgent}, {@code coverageReportFormats}, {@code coverageReportTitle}, {@code environmentOverrides}, {@code coverageExcludes}, {@code coverageIncludes}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Booleans.hashCode(codeCoverageEnabled);
+    h += (h << 5) + Booleans.hashCode(runAllTests);
+    h += (h << 5) + testSelectorList.hashCode();
+    h += (h << 5) + Booleans.hashCode(shouldExplainTestSelectorList);
+    h += (h << 5) + Booleans.hashCode(shufflingTests);
+    h += (h << 5) + Objects.hashCode(pathToXmlTestOutput);
+    h += (h << 5) + Objects.hashCode(pathToJavaAgent);
+    h += (h << 5) + coverageReportFormats.hashCode();
+    h += (h << 5) + coverageReportTitle.hashCode();
+    h += (h << 5) + environmentOverrides.hashCode();
+    h += (h << 5) + Objects.hashCode(coverageExcludes);
+    h += (h << 5) + Objects.hashCode(coverageIncludes);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TestRunningOptions} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestRunningOptions")
+        .omitNullValues()
+        .add("codeCoverageEnabled", codeCoverageEnabled)
+        .add("runAllTests", runAllTests)
+        .add("testSelectorList", testSelectorList)
+        .add("shouldExplainTestSelectorList", shouldExplainTestSelectorList)
+        .add("shufflingTests", shufflingTests)
+        .add("pathToXmlTestOutput", pathToXmlTestOutput)
+        .add("pathToJavaAgent", pathToJavaAgent)
+        .add("coverageReportFormats", coverageReportFormats)
+        .add("coverageReportTitle", coverageReportTitle)
+        .add("environmentOverrides", environmentOverrides)
+        .add("coverageExcludes", coverageExcludes)
+        .add("coverageIncludes", coverageIncludes)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractTestRunningOptions} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable TestRunningOptions instance
+   */
+  static TestRunningOptions copyOf(AbstractTestRunningOptions instance) {
+    if (instance instanceof TestRunningOptions) {
+      return (TestRunningOptions) instance;
+    }
+    return TestRunningOptions.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link TestRunningOptions TestRunningOptions}.
+   * @return A new TestRunningOptions builder
+   */
+  public static TestRunningOptions.Builder builder() {
+    return new TestRunningOptions.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link TestRunningOptions TestRunningOptions}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long OPT_BIT_CODE_COVERAGE_ENABLED = 0x1L;
+    private static final long OPT_BIT_RUN_ALL_TESTS = 0x2L;
+    private static final long OPT_BIT_SHOULD_EXPLAIN_TEST_SELECTOR_LIST = 0x4L;
+    private static final long OPT_BIT_SHUFFLING_TESTS = 0x8L;
+    private static final long OPT_BIT_COVERAGE_REPORT_FORMATS = 0x10L;
+    private long optBits;
+
+    private boolean codeCoverageEnabled;
+    private boolean runAllTests;
+    private @Nullable TestSelectorList testSelectorList;
+    private boolean shouldExplainTestSelectorList;
+    private boolean shufflingTests;
+    private @Nullable String pathToXmlTestOutput;
+    private @Nullable String pathToJavaAgent;
+    private ImmutableSet.Builder<CoverageReportFormat> coverageReportFormats = ImmutableSet.builder();
+    private @Nullable String coverageReportTitle;
+    private ImmutableMap.Builder<String, String> environmentOverrides = ImmutableMap.builder();
+    private @Nullable String coverageExcludes;
+    private @Nullable String coverageIncludes;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code TestRunningOptions} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(TestRunningOptions instance) {
+      return from((AbstractTestRunningOptions) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractTestRunningOptions} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractTestRunningOptions instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCodeCoverageEnabled(instance.isCodeCoverageEnabled());
+      setRunAllTests(instance.isRunAllTests());
+      setTestSelectorList(instance.getTestSelectorList());
+      setShouldExplainTestSelectorList(instance.shouldExplainTestSelectorList());
+      setShufflingTests(instance.isShufflingTests());
+      Optional<String> pathToXmlTestOutputOptional = instance.getPathToXmlTestOutput();
+      if (pathToXmlTestOutputOptional.isPresent()) {
+        setPathToXmlTestOutput(pathToXmlTestOutputOptional);
+      }
+      Optional<String> pathToJavaAgentOptional = instance.getPathToJavaAgent();
+      if (pathToJavaAgentOptional.isPresent()) {
+        setPathToJavaAgent(pathToJavaAgentOptional);
+      }
+      addAllCoverageReportFormats(instance.getCoverageReportFormats());
+      setCoverageReportTitle(instance.getCoverageReportTitle());
+      putAllEnvironmentOverrides(instance.getEnvironmentOverrides());
+      Optional<String> coverageExcludesOptional = instance.getCoverageExcludes();
+      if (coverageExcludesOptional.isPresent()) {
+        setCoverageExcludes(coverageExcludesOptional);
+      }
+      Optional<String> coverageIncludesOptional = instance.getCoverageIncludes();
+      if (coverageIncludesOptional.isPresent()) {
+        setCoverageIncludes(coverageIncludesOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractTestRunningOptions#isCodeCoverageEnabled() codeCoverageEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractTestRunningOptions#isCodeCoverageEnabled() codeCoverageEnabled}.</em>
+     * @param codeCoverageEnabled The value for codeCoverageEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCodeCoverageEnabled(boolean codeCoverageEnabled) {
+      this.codeCoverageEnabled = codeCoverageEnabled;
+      optBits |= OPT_BIT_CODE_COVERAGE_ENABLED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractTestRunningOptions#isRunAllTests() runAllTests} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractTestRunningOptions#isRunAllTests() runAllTests}.</em>
+     * @param runAllTests The value for runAllTests 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRunAllTests(boolean runAllTests) {
+      this.runAllTests = runAllTests;
+      optBits |= OPT_BIT_RUN_ALL_TESTS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractTestRunningOptions#getTestSelectorList() testSelectorList} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractTestRunningOptions#getTestSelectorList() testSelectorList}.</em>
+     * @param testSelectorList The value for testSelectorList 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestSelectorList(TestSelectorList testSelectorList) {
+      this.testSelectorList = Objects.requireNonNull(testSelectorList, "testSelectorList");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractTestRunningOptions#shouldExplainTestSelectorList() shouldExplainTestSelectorList} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractTestRunningOptions#shouldExplainTestSelectorList() shouldExplainTestSelectorList}.</em>
+     * @param shouldExplainTestSelectorList The value for shouldExplainTestSelectorList 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setShouldExplainTestSelectorList(boolean shouldExplainTestSelectorList) {
+      this.shouldExplainTestSelectorList = shouldExplainTestSelectorList;
+      optBits |= OPT_BIT_SHOULD_EXPLAIN_TEST_SELECTOR_LIST;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractTestRunningOptions#isShufflingTests() shufflingTests} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractTestRunningOptions#isShufflingTests() shufflingTests}.</em>
+     * @param shufflingTests The value for shufflingTests 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setShufflingTests(boolean shufflingTests) {
+      this.shufflingTests = shufflingTests;
+      optBits |= OPT_BIT_SHUFFLING_TESTS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractTestRunningOptions#getPathToXmlTestOutput() pathToXmlTestOutput} to pathToXmlTestOutput.
+     * @param pathToXmlTestOutput The value for pathToXmlTestOutput
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPathToXmlTestOutput(String pathToXmlTestOutput) {
+      this.pathToXmlTestOutput = Objects.requireNonNull(pathToXmlTestOutput, "pathToXmlTestOutput");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractTestRunningOptions#getPathToXmlTestOutput() pathToXmlTestOutput} to pathToXmlTestOutput.
+     * @param pathToXmlTestOutput The value for pathToXmlTestOutput
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPathToXmlTestOutput(Optional<String> pathToXmlTestOutput) {
+      this.pathToXmlTestOutput = pathToXmlTestOutput.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractTestRunningOptions#getPathToJavaAgent() pathToJavaAgent} to pathToJavaAgent.
+     * @param pathToJavaAgent The value for pathToJavaAgent
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPathToJavaAgent(String pathToJavaAgent) {
+      this.pathToJavaAgent = Objects.requireNonNull(pathToJavaAgent, "pathToJavaAgent");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractTestRunningOptions#getPathToJavaAgent() pathToJavaAgent} to pathToJavaAgent.
+     * @param pathToJavaAgent The value for pathToJavaAgent
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPathToJavaAgent(Optional<String> pathToJavaAgent) {
+      this.pathToJavaAgent = pathToJavaAgent.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractTestRunningOptions#getCoverageReportFormats() coverageReportFormats} set.
+     * @param element A coverageReportFormats element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCoverageReportFormats(CoverageReportFormat element) {
+      this.coverageReportFormats.add(element);
+      optBits |= OPT_BIT_COVERAGE_REPORT_FORMATS;
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestRunningOptions#getCoverageReportFormats() coverageReportFormats} set.
+     * @param elements An array of coverageReportFormats elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCoverageReportFormats(CoverageReportFormat... elements) {
+      this.coverageReportFormats.addAll(Arrays.asList(elements));
+      optBits |= OPT_BIT_COVERAGE_REPORT_FORMATS;
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractTestRunningOptions#getCoverageReportFormats() coverageReportFormats} set.
+     * @param elements An iterable of coverageReportFormats elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCoverageReportFormats(Iterable<CoverageReportFormat> elements) {
+      this.coverageReportFormats = ImmutableSet.builder();
+      return addAllCoverageReportFormats(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestRunningOptions#getCoverageReportFormats() coverageReportFormats} set.
+     * @param elements An iterable of coverageReportFormats elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCoverageReportFormats(Iterable<CoverageReportFormat> elements) {
+      this.coverageReportFormats.addAll(elements);
+      optBits |= OPT_BIT_COVERAGE_REPORT_FORMATS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractTestRunningOptions#getCoverageReportTitle() coverageReportTitle} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractTestRunningOptions#getCoverageReportTitle() coverageReportTitle}.</em>
+     * @param coverageReportTitle The value for coverageReportTitle 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCoverageReportTitle(String coverageReportTitle) {
+      this.coverageReportTitle = Objects.requireNonNull(coverageReportTitle, "coverageReportTitle");
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link AbstractTestRunningOptions#getEnvironmentOverrides() environmentOverrides} map.
+     * @param key The key in the environmentOverrides map
+     * @param value The associated value in the environmentOverrides map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnvironmentOverrides(String key, String value) {
+      this.environmentOverrides.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractTestRunningOptions#getEnvironmentOverrides() environmentOverrides} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnvironmentOverrides(Map.Entry<String, ? extends String> entry) {
+      this.environmentOverrides.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractTestRunningOptions#getEnvironmentOverrides() environmentOverrides} map. Nulls are not permitted
+     * @param environmentOverrides The entries that will be added to the environmentOverrides map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnvironmentOverrides(Map<String, ? extends String> environmentOverrides) {
+      this.environmentOverrides = ImmutableMap.builder();
+      return putAllEnvironmentOverrides(environmentOverrides);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractTestRunningOptions#getEnvironmentOverrides() environmentOverrides} map. Nulls are not permitted
+     * @param environmentOverrides The entries that will be added to the environmentOverrides map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllEnvironmentOverrides(Map<String, ? extends String> environmentOverrides) {
+      this.environmentOverrides.putAll(environmentOverrides);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractTestRunningOptions#getCoverageExcludes() coverageExcludes} to coverageExcludes.
+     * @param coverageExcludes The value for coverageExcludes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCoverageExcludes(String coverageExcludes) {
+      this.coverageExcludes = Objects.requireNonNull(coverageExcludes, "coverageExcludes");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractTestRunningOptions#getCoverageExcludes() coverageExcludes} to coverageExcludes.
+     * @param coverageExcludes The value for coverageExcludes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCoverageExcludes(Optional<String> coverageExcludes) {
+      this.coverageExcludes = coverageExcludes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractTestRunningOptions#getCoverageIncludes() coverageIncludes} to coverageIncludes.
+     * @param coverageIncludes The value for coverageIncludes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCoverageIncludes(String coverageIncludes) {
+      this.coverageIncludes = Objects.requireNonNull(coverageIncludes, "coverageIncludes");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractTestRunningOptions#getCoverageIncludes() coverageIncludes} to coverageIncludes.
+     * @param coverageIncludes The value for coverageIncludes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCoverageIncludes(Optional<String> coverageIncludes) {
+      this.coverageIncludes = coverageIncludes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link TestRunningOptions TestRunningOptions}.
+     * @return An immutable instance of TestRunningOptions
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public TestRunningOptions build() {
+      return new TestRunningOptions(this);
+    }
+
+    private boolean codeCoverageEnabledIsSet() {
+      return (optBits & OPT_BIT_CODE_COVERAGE_ENABLED) != 0;
+    }
+
+    private boolean runAllTestsIsSet() {
+      return (optBits & OPT_BIT_RUN_ALL_TESTS) != 0;
+    }
+
+    private boolean shouldExplainTestSelectorListIsSet() {
+      return (optBits & OPT_BIT_SHOULD_EXPLAIN_TEST_SELECTOR_LIST) != 0;
+    }
+
+    private boolean shufflingTestsIsSet() {
+      return (optBits & OPT_BIT_SHUFFLING_TESTS) != 0;
+    }
+
+    private boolean coverageReportFormatsIsSet() {
+      return (optBits & OPT_BIT_COVERAGE_REPORT_FORMATS) != 0;
+    }
+  }
+}
@@ -0,0 +1,282 @@
+package com.facebook.buck.test;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Level;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Represents a diagnostic message issued during a test. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractTestStatusMessage"})
+@Immutable
+public final class TestStatusMessage implements AbstractTestStatusMessage {
+  private final String message;
+  private final Level level;
+  private final long timestampMillis;
+
+  private TestStatusMessage(String message, Level level, long timestampMillis) {
+    this.message = Objects.requireNonNull(message, "message");
+    this.level = Objects.requireNonNull(level, "level");
+    this.timestampMillis = timestampMillis;
+  }
+
+  private TestStatusMessage(
+      TestStatusMessage original,
+      String message,
+      Level level,
+      long timestampMillis) {
+    this.message = message;
+    this.level = level;
+    this.timestampMillis = timestampMillis;
+  }
+
+  /**
+   * @return The value of the {@code message} attribute
+   */
+  @Override
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * @return The value of the {@code level} attribute
+   */
+  @Override
+  public Level getLevel() {
+    return level;
+  }
+
+  /**
+   * @return The value of the {@code timestampMillis} attribute
+   */
+  @Override
+  public long getTimestampMillis() {
+    return timestampMillis;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTestStatusMessage#getMessage() message} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for message
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestStatusMessage withMessage(String value) {
+    if (this.message.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "message");
+    return new TestStatusMessage(this, newValue, this.level, this.timestampMillis);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTestStatusMessage#getLevel() level} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for level
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestStatusMessage withLevel(Level value) {
+    if (this.level == value) return this;
+    Level newValue = Objects.requireNonNull(value, "level");
+    return new TestStatusMessage(this, this.message, newValue, this.timestampMillis);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTestStatusMessage#getTimestampMillis() timestampMillis} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for timestampMillis
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestStatusMessage withTimestampMillis(long value) {
+    if (this.timestampMillis == value) return this;
+    return new TestStatusMessage(this, this.message, this.level, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TestStatusMessage} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TestStatusMessage
+        && equalTo((TestStatusMessage) another);
+  }
+
+  private boolean equalTo(TestStatusMessage another) {
+    return message.equals(another.message)
+        && level.equals(another.level)
+        && timestampMillis == another.timestampMillis;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code message}, {@code level}, {@code timestampMillis}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + message.hashCode();
+    h += (h << 5) + level.hashCode();
+    h += (h << 5) + Longs.hashCode(timestampMillis);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TestStatusMessage} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestStatusMessage")
+        .omitNullValues()
+        .add("message", message)
+        .add("level", level)
+        .add("timestampMillis", timestampMillis)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TestStatusMessage} instance.
+   * @param message The value for the {@code message} attribute
+   * @param level The value for the {@code level} attribute
+   * @param timestampMillis The value for the {@code timestampMillis} attribute
+   * @return An immutable TestStatusMessage instance
+   */
+  public static TestStatusMessage of(String message, Level level, long timestampMillis) {
+    return new TestStatusMessage(message, level, timestampMillis);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractTestStatusMessage} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable TestStatusMessage instance
+   */
+  static TestStatusMessage copyOf(AbstractTestStatusMessage instance) {
+    if (instance instanceof TestStatusMessage) {
+      return (TestStatusMessage) instance;
+    }
+    return TestStatusMessage.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link TestStatusMessage TestStatusMessage}.
+   * @return A new TestStatusMessage builder
+   */
+  public static TestStatusMessage.Builder builder() {
+    return new TestStatusMessage.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link TestStatusMessage TestStatusMessage}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_MESSAGE = 0x1L;
+    private static final long INIT_BIT_LEVEL = 0x2L;
+    private static final long INIT_BIT_TIMESTAMP_MILLIS = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable String message;
+    private @Nullable Level level;
+    private long timestampMillis;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code TestStatusMessage} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(TestStatusMessage instance) {
+      return from((AbstractTestStatusMessage) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractTestStatusMessage} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractTestStatusMessage instance) {
+      Objects.requireNonNull(instance, "instance");
+      setMessage(instance.getMessage());
+      setLevel(instance.getLevel());
+      setTimestampMillis(instance.getTimestampMillis());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractTestStatusMessage#getMessage() message} attribute.
+     * @param message The value for message 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMessage(String message) {
+      this.message = Objects.requireNonNull(message, "message");
+      initBits &= ~INIT_BIT_MESSAGE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractTestStatusMessage#getLevel() level} attribute.
+     * @param level The value for level 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLevel(Level level) {
+      this.level = Objects.requireNonNull(level, "level");
+      initBits &= ~INIT_BIT_LEVEL;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractTestStatusMessage#getTimestampMillis() timestampMillis} attribute.
+     * @param timestampMillis The value for timestampMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTimestampMillis(long timestampMillis) {
+      this.timestampMillis = timestampMillis;
+      initBits &= ~INIT_BIT_TIMESTAMP_MILLIS;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link TestStatusMessage TestStatusMessage}.
+     * @return An immutable instance of TestStatusMessage
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public TestStatusMessage build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new TestStatusMessage(null, message, level, timestampMillis);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_MESSAGE) != 0) attributes.add("message");
+      if ((initBits & INIT_BIT_LEVEL) != 0) attributes.add("level");
+      if ((initBits & INIT_BIT_TIMESTAMP_MILLIS) != 0) attributes.add("timestampMillis");
+      return "Cannot build TestStatusMessage, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,232 @@
+package com.facebook.buck.util.autosparse;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAutoSparseConfig}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AutoSparseConfig.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code AutoSparseConfig.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAutoSparseConfig"})
+@Immutable
+public final class AutoSparseConfig extends AbstractAutoSparseConfig {
+  private final boolean enabled;
+  private final ImmutableSet<Path> ignoredPaths;
+
+  private AutoSparseConfig(boolean enabled, Iterable<? extends Path> ignoredPaths) {
+    this.enabled = enabled;
+    this.ignoredPaths = ImmutableSet.copyOf(ignoredPaths);
+  }
+
+  private AutoSparseConfig(AutoSparseConfig.Builder builder) {
+    this.enabled = builder.enabled;
+    this.ignoredPaths = builder.ignoredPaths.build();
+  }
+
+  /**
+   * @return The value of the {@code enabled} attribute
+   */
+  @Override
+  public boolean enabled() {
+    return enabled;
+  }
+
+  /**
+   * @return The value of the {@code ignoredPaths} attribute
+   */
+  @Override
+  public ImmutableSet<Path> ignoredPaths() {
+    return ignoredPaths;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AutoSparseConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AutoSparseConfig
+        && equalTo((AutoSparseConfig) another);
+  }
+
+  private boolean equalTo(AutoSparseConfig another) {
+    return enabled == another.enabled
+        && ignoredPaths.equals(another.ignoredPaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code enabled}, {@code ignoredPaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Booleans.hashCode(enabled);
+    h += (h << 5) + ignoredPaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AutoSparseConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AutoSparseConfig")
+        .omitNullValues()
+        .add("enabled", enabled)
+        .add("ignoredPaths", ignoredPaths)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AutoSparseConfig} instance.
+   * @param enabled The value for the {@code enabled} attribute
+   * @param ignoredPaths The value for the {@code ignoredPaths} attribute
+   * @return An immutable AutoSparseConfig instance
+   */
+  public static AutoSparseConfig of(boolean enabled, Set<Path> ignoredPaths) {
+    return of(enabled, (Iterable<? extends Path>) ignoredPaths);
+  }
+
+  /**
+   * Construct a new immutable {@code AutoSparseConfig} instance.
+   * @param enabled The value for the {@code enabled} attribute
+   * @param ignoredPaths The value for the {@code ignoredPaths} attribute
+   * @return An immutable AutoSparseConfig instance
+   */
+  public static AutoSparseConfig of(boolean enabled, Iterable<? extends Path> ignoredPaths) {
+    return new AutoSparseConfig(enabled, ignoredPaths);
+  }
+
+  /**
+   * Creates a builder for {@link AutoSparseConfig AutoSparseConfig}.
+   * @return A new AutoSparseConfig builder
+   */
+  public static AutoSparseConfig.Builder builder() {
+    return new AutoSparseConfig.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AutoSparseConfig AutoSparseConfig}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_ENABLED = 0x1L;
+    private long initBits = 0x1L;
+
+    private boolean enabled;
+    private ImmutableSet.Builder<Path> ignoredPaths = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractAutoSparseConfig} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AbstractAutoSparseConfig instance) {
+      Objects.requireNonNull(instance, "instance");
+      setEnabled(instance.enabled());
+      addAllIgnoredPaths(instance.ignoredPaths());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAutoSparseConfig#enabled() enabled} attribute.
+     * @param enabled The value for enabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnabled(boolean enabled) {
+      this.enabled = enabled;
+      initBits &= ~INIT_BIT_ENABLED;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractAutoSparseConfig#ignoredPaths() ignoredPaths} set.
+     * @param element A ignoredPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIgnoredPaths(Path element) {
+      this.ignoredPaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAutoSparseConfig#ignoredPaths() ignoredPaths} set.
+     * @param elements An array of ignoredPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIgnoredPaths(Path... elements) {
+      this.ignoredPaths.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAutoSparseConfig#ignoredPaths() ignoredPaths} set.
+     * @param elements An iterable of ignoredPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIgnoredPaths(Iterable<? extends Path> elements) {
+      this.ignoredPaths = ImmutableSet.builder();
+      return addAllIgnoredPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAutoSparseConfig#ignoredPaths() ignoredPaths} set.
+     * @param elements An iterable of ignoredPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllIgnoredPaths(Iterable<? extends Path> elements) {
+      this.ignoredPaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AutoSparseConfig AutoSparseConfig}.
+     * @return An immutable instance of AutoSparseConfig
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AutoSparseConfig build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AutoSparseConfig(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_ENABLED) != 0) attributes.add("enabled");
+      return "Cannot build AutoSparseConfig, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,295 @@
+package com.facebook.buck.util.cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link FileHashCache.AbstractFileHashCacheVerificationResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code FileHashCacheVerificationResult.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "FileHashCache.AbstractFileHashCacheVerificationResult"})
+@Immutable
+public final class FileHashCacheVerificationResult
+    implements FileHashCache.AbstractFileHashCacheVerificationResult {
+  private final int cachesExamined;
+  private final int filesExamined;
+  private final ImmutableList<String> verificationErrors;
+
+  private FileHashCacheVerificationResult(
+      int cachesExamined,
+      int filesExamined,
+      ImmutableList<String> verificationErrors) {
+    this.cachesExamined = cachesExamined;
+    this.filesExamined = filesExamined;
+    this.verificationErrors = verificationErrors;
+  }
+
+  /**
+   * @return The value of the {@code cachesExamined} attribute
+   */
+  @Override
+  public int getCachesExamined() {
+    return cachesExamined;
+  }
+
+  /**
+   * @return The value of the {@code filesExamined} attribute
+   */
+  @Override
+  public int getFilesExamined() {
+    return filesExamined;
+  }
+
+  /**
+   * @return The value of the {@code verificationErrors} attribute
+   */
+  @Override
+  public ImmutableList<String> getVerificationErrors() {
+    return verificationErrors;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link FileHashCache.AbstractFileHashCacheVerificationResult#getCachesExamined() cachesExamined} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cachesExamined
+   * @return A modified copy of the {@code this} object
+   */
+  public final FileHashCacheVerificationResult withCachesExamined(int value) {
+    if (this.cachesExamined == value) return this;
+    return new FileHashCacheVerificationResult(value, this.filesExamined, this.verificationErrors);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link FileHashCache.AbstractFileHashCacheVerificationResult#getFilesExamined() filesExamined} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for filesExamined
+   * @return A modified copy of the {@code this} object
+   */
+  public final FileHashCacheVerificationResult withFilesExamined(int value) {
+    if (this.filesExamined == value) return this;
+    return new FileHashCacheVerificationResult(this.cachesExamined, value, this.verificationErrors);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link FileHashCache.AbstractFileHashCacheVerificationResult#getVerificationErrors() verificationErrors}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FileHashCacheVerificationResult withVerificationErrors(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new FileHashCacheVerificationResult(this.cachesExamined, this.filesExamined, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link FileHashCache.AbstractFileHashCacheVerificationResult#getVerificationErrors() verificationErrors}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of verificationErrors elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FileHashCacheVerificationResult withVerificationErrors(Iterable<String> elements) {
+    if (this.verificationErrors == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new FileHashCacheVerificationResult(this.cachesExamined, this.filesExamined, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code FileHashCacheVerificationResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof FileHashCacheVerificationResult
+        && equalTo((FileHashCacheVerificationResult) another);
+  }
+
+  private boolean equalTo(FileHashCacheVerificationResult another) {
+    return cachesExamined == another.cachesExamined
+        && filesExamined == another.filesExamined
+        && verificationErrors.equals(another.verificationErrors);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cachesExamined}, {@code filesExamined}, {@code verificationErrors}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + cachesExamined;
+    h += (h << 5) + filesExamined;
+    h += (h << 5) + verificationErrors.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FileHashCacheVerificationResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FileHashCacheVerificationResult")
+        .omitNullValues()
+        .add("cachesExamined", cachesExamined)
+        .add("filesExamined", filesExamined)
+        .add("verificationErrors", verificationErrors)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link FileHashCache.AbstractFileHashCacheVerificationResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable FileHashCacheVerificationResult instance
+   */
+  public static FileHashCacheVerificationResult copyOf(FileHashCache.AbstractFileHashCacheVerificationResult instance) {
+    if (instance instanceof FileHashCacheVerificationResult) {
+      return (FileHashCacheVerificationResult) instance;
+    }
+    return FileHashCacheVerificationResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link FileHashCacheVerificationResult FileHashCacheVerificationResult}.
+   * @return A new FileHashCacheVerificationResult builder
+   */
+  public static FileHashCacheVerificationResult.Builder builder() {
+    return new FileHashCacheVerificationResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link FileHashCacheVerificationResult FileHashCacheVerificationResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CACHES_EXAMINED = 0x1L;
+    private static final long INIT_BIT_FILES_EXAMINED = 0x2L;
+    private long initBits = 0x3L;
+
+    private int cachesExamined;
+    private int filesExamined;
+    private ImmutableList.Builder<String> verificationErrors = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractFileHashCacheVerificationResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(FileHashCache.AbstractFileHashCacheVerificationResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCachesExamined(instance.getCachesExamined());
+      setFilesExamined(instance.getFilesExamined());
+      addAllVerificationErrors(instance.getVerificationErrors());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link FileHashCache.AbstractFileHashCacheVerificationResult#getCachesExamined() cachesExamined} attribute.
+     * @param cachesExamined The value for cachesExamined 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCachesExamined(int cachesExamined) {
+      this.cachesExamined = cachesExamined;
+      initBits &= ~INIT_BIT_CACHES_EXAMINED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link FileHashCache.AbstractFileHashCacheVerificationResult#getFilesExamined() filesExamined} attribute.
+     * @param filesExamined The value for filesExamined 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFilesExamined(int filesExamined) {
+      this.filesExamined = filesExamined;
+      initBits &= ~INIT_BIT_FILES_EXAMINED;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link FileHashCache.AbstractFileHashCacheVerificationResult#getVerificationErrors() verificationErrors} list.
+     * @param element A verificationErrors element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addVerificationErrors(String element) {
+      this.verificationErrors.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link FileHashCache.AbstractFileHashCacheVerificationResult#getVerificationErrors() verificationErrors} list.
+     * @param elements An array of verificationErrors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addVerificationErrors(String... elements) {
+      this.verificationErrors.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link FileHashCache.AbstractFileHashCacheVerificationResult#getVerificationErrors() verificationErrors} list.
+     * @param elements An iterable of verificationErrors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVerificationErrors(Iterable<String> elements) {
+      this.verificationErrors = ImmutableList.builder();
+      return addAllVerificationErrors(elements);
+    }
+
+    /**
+     * Adds elements to {@link FileHashCache.AbstractFileHashCacheVerificationResult#getVerificationErrors() verificationErrors} list.
+     * @param elements An iterable of verificationErrors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllVerificationErrors(Iterable<String> elements) {
+      this.verificationErrors.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link FileHashCacheVerificationResult FileHashCacheVerificationResult}.
+     * @return An immutable instance of FileHashCacheVerificationResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public FileHashCacheVerificationResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new FileHashCacheVerificationResult(cachesExamined, filesExamined, verificationErrors.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CACHES_EXAMINED) != 0) attributes.add("cachesExamined");
+      if ((initBits & INIT_BIT_FILES_EXAMINED) != 0) attributes.add("filesExamined");
+      return "Cannot build FileHashCacheVerificationResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
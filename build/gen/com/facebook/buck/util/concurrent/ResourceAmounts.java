@@ -0,0 +1,314 @@
+package com.facebook.buck.util.concurrent;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractResourceAmounts}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ResourceAmounts.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code ResourceAmounts.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractResourceAmounts"})
+@Immutable
+public final class ResourceAmounts extends AbstractResourceAmounts {
+  private final int cpu;
+  private final int memory;
+  private final int diskIO;
+  private final int networkIO;
+
+  private ResourceAmounts(int cpu, int memory, int diskIO, int networkIO) {
+    this.cpu = cpu;
+    this.memory = memory;
+    this.diskIO = diskIO;
+    this.networkIO = networkIO;
+  }
+
+  /**
+   * @return The value of the {@code cpu} attribute
+   */
+  @Override
+  public int getCpu() {
+    return cpu;
+  }
+
+  /**
+   * @return The value of the {@code memory} attribute
+   */
+  @Override
+  public int getMemory() {
+    return memory;
+  }
+
+  /**
+   * @return The value of the {@code diskIO} attribute
+   */
+  @Override
+  public int getDiskIO() {
+    return diskIO;
+  }
+
+  /**
+   * @return The value of the {@code networkIO} attribute
+   */
+  @Override
+  public int getNetworkIO() {
+    return networkIO;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractResourceAmounts#getCpu() cpu} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cpu
+   * @return A modified copy of the {@code this} object
+   */
+  public final ResourceAmounts withCpu(int value) {
+    if (this.cpu == value) return this;
+    return new ResourceAmounts(value, this.memory, this.diskIO, this.networkIO);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractResourceAmounts#getMemory() memory} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for memory
+   * @return A modified copy of the {@code this} object
+   */
+  public final ResourceAmounts withMemory(int value) {
+    if (this.memory == value) return this;
+    return new ResourceAmounts(this.cpu, value, this.diskIO, this.networkIO);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractResourceAmounts#getDiskIO() diskIO} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for diskIO
+   * @return A modified copy of the {@code this} object
+   */
+  public final ResourceAmounts withDiskIO(int value) {
+    if (this.diskIO == value) return this;
+    return new ResourceAmounts(this.cpu, this.memory, value, this.networkIO);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractResourceAmounts#getNetworkIO() networkIO} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for networkIO
+   * @return A modified copy of the {@code this} object
+   */
+  public final ResourceAmounts withNetworkIO(int value) {
+    if (this.networkIO == value) return this;
+    return new ResourceAmounts(this.cpu, this.memory, this.diskIO, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ResourceAmounts} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ResourceAmounts
+        && equalTo((ResourceAmounts) another);
+  }
+
+  private boolean equalTo(ResourceAmounts another) {
+    return cpu == another.cpu
+        && memory == another.memory
+        && diskIO == another.diskIO
+        && networkIO == another.networkIO;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cpu}, {@code memory}, {@code diskIO}, {@code networkIO}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + cpu;
+    h += (h << 5) + memory;
+    h += (h << 5) + diskIO;
+    h += (h << 5) + networkIO;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ResourceAmounts} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ResourceAmounts")
+        .omitNullValues()
+        .add("cpu", cpu)
+        .add("memory", memory)
+        .add("diskIO", diskIO)
+        .add("networkIO", networkIO)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ResourceAmounts} instance.
+   * @param cpu The value for the {@code cpu} attribute
+   * @param memory The value for the {@code memory} attribute
+   * @param diskIO The value for the {@code diskIO} attribute
+   * @param networkIO The value for the {@code networkIO} attribute
+   * @return An immutable ResourceAmounts instance
+   */
+  public static ResourceAmounts of(int cpu, int memory, int diskIO, int networkIO) {
+    return new ResourceAmounts(cpu, memory, diskIO, networkIO);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractResourceAmounts} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ResourceAmounts instance
+   */
+  static ResourceAmounts copyOf(AbstractResourceAmounts instance) {
+    if (instance instanceof ResourceAmounts) {
+      return (ResourceAmounts) instance;
+    }
+    return ResourceAmounts.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ResourceAmounts ResourceAmounts}.
+   * @return A new ResourceAmounts builder
+   */
+  public static ResourceAmounts.Builder builder() {
+    return new ResourceAmounts.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ResourceAmounts ResourceAmounts}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CPU = 0x1L;
+    private static final long INIT_BIT_MEMORY = 0x2L;
+    private static final long INIT_BIT_DISK_I_O = 0x4L;
+    private static final long INIT_BIT_NETWORK_I_O = 0x8L;
+    private long initBits = 0xfL;
+
+    private int cpu;
+    private int memory;
+    private int diskIO;
+    private int networkIO;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ResourceAmounts} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ResourceAmounts instance) {
+      return from((AbstractResourceAmounts) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractResourceAmounts} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractResourceAmounts instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCpu(instance.getCpu());
+      setMemory(instance.getMemory());
+      setDiskIO(instance.getDiskIO());
+      setNetworkIO(instance.getNetworkIO());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractResourceAmounts#getCpu() cpu} attribute.
+     * @param cpu The value for cpu 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCpu(int cpu) {
+      this.cpu = cpu;
+      initBits &= ~INIT_BIT_CPU;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractResourceAmounts#getMemory() memory} attribute.
+     * @param memory The value for memory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMemory(int memory) {
+      this.memory = memory;
+      initBits &= ~INIT_BIT_MEMORY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractResourceAmounts#getDiskIO() diskIO} attribute.
+     * @param diskIO The value for diskIO 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDiskIO(int diskIO) {
+      this.diskIO = diskIO;
+      initBits &= ~INIT_BIT_DISK_I_O;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractResourceAmounts#getNetworkIO() networkIO} attribute.
+     * @param networkIO The value for networkIO 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNetworkIO(int networkIO) {
+      this.networkIO = networkIO;
+      initBits &= ~INIT_BIT_NETWORK_I_O;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link ResourceAmounts ResourceAmounts}.
+     * @return An immutable instance of ResourceAmounts
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ResourceAmounts build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ResourceAmounts(cpu, memory, diskIO, networkIO);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CPU) != 0) attributes.add("cpu");
+      if ((initBits & INIT_BIT_MEMORY) != 0) attributes.add("memory");
+      if ((initBits & INIT_BIT_DISK_I_O) != 0) attributes.add("diskIO");
+      if ((initBits & INIT_BIT_NETWORK_I_O) != 0) attributes.add("networkIO");
+      return "Cannot build ResourceAmounts, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.facebook.buck.util.config;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Hierarcical configuration of section/key/value triples.
+ * <p>This class only implements the simple construction/storage/retrieval of these values. Other
+ * classes like {@link Config} implements accessors that interpret the values as other types.
+ */
+@SuppressWarnings({"PMD.BuckStyleImmutableMustBePackagePrivate", "all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractRawConfig"})
+@Immutable
+public final class RawConfig extends AbstractRawConfig {
+  private final ImmutableMap<String, ImmutableMap<String, String>> values;
+
+  private RawConfig(
+      Map<String, ? extends ImmutableMap<String, String>> values) {
+    this.values = ImmutableMap.copyOf(values);
+  }
+
+  private RawConfig(
+      RawConfig original,
+      ImmutableMap<String, ImmutableMap<String, String>> values) {
+    this.values = values;
+  }
+
+  /**
+   * @return The value of the {@code values} attribute
+   */
+  @Override
+  public ImmutableMap<String, ImmutableMap<String, String>> getValues() {
+    return values;
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractRawConfig#getValues() values} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the values map
+   * @return A modified copy of {@code this} object
+   */
+  public final RawConfig withValues(Map<String, ? extends ImmutableMap<String, String>> entries) {
+    if (this.values == entries) return this;
+    ImmutableMap<String, ImmutableMap<String, String>> newValue = ImmutableMap.copyOf(entries);
+    return new RawConfig(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RawConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RawConfig
+        && equalTo((RawConfig) another);
+  }
+
+  private boolean equalTo(RawConfig another) {
+    return values.equals(another.values);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code values}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + values.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RawConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RawConfig")
+        .omitNullValues()
+        .add("values", values)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RawConfig} instance.
+   * @param values The value for the {@code values} attribute
+   * @return An immutable RawConfig instance
+   */
+  public static RawConfig of(Map<String, ? extends ImmutableMap<String, String>> values) {
+    return new RawConfig(values);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractRawConfig} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable RawConfig instance
+   */
+  public static RawConfig copyOf(AbstractRawConfig instance) {
+    if (instance instanceof RawConfig) {
+      return (RawConfig) instance;
+    }
+    return RawConfig.of(instance.getValues());
+  }
+}
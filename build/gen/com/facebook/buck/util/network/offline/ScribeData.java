@@ -0,0 +1,311 @@
+package com.facebook.buck.util.network.offline;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractScribeData}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ScribeData.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractScribeData"})
+@Immutable
+public final class ScribeData extends AbstractScribeData {
+  private final String category;
+  private final ImmutableList<String> lines;
+
+  private ScribeData(String category, ImmutableList<String> lines) {
+    this.category = category;
+    this.lines = lines;
+  }
+
+  /**
+   * @return The value of the {@code category} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getCategory() {
+    return category;
+  }
+
+  /**
+   * @return The value of the {@code lines} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableList<String> getLines() {
+    return lines;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractScribeData#getCategory() category} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for category
+   * @return A modified copy of the {@code this} object
+   */
+  public final ScribeData withCategory(String value) {
+    if (this.category.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "category");
+    return new ScribeData(newValue, this.lines);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractScribeData#getLines() lines}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ScribeData withLines(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ScribeData(this.category, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractScribeData#getLines() lines}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of lines elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ScribeData withLines(Iterable<String> elements) {
+    if (this.lines == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ScribeData(this.category, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ScribeData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ScribeData
+        && equalTo((ScribeData) another);
+  }
+
+  private boolean equalTo(ScribeData another) {
+    return category.equals(another.category)
+        && lines.equals(another.lines);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code category}, {@code lines}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + category.hashCode();
+    h += (h << 5) + lines.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ScribeData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ScribeData")
+        .omitNullValues()
+        .add("category", category)
+        .add("lines", lines)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractScribeData {
+    @Nullable String category;
+    @Nullable ImmutableList<String> lines = ImmutableList.of();
+    @JsonProperty
+    public void setCategory(String category) {
+      this.category = category;
+    }
+    @JsonProperty
+    public void setLines(ImmutableList<String> lines) {
+      this.lines = lines;
+    }
+    @Override
+    public String getCategory() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableList<String> getLines() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ScribeData fromJson(Json json) {
+    ScribeData.Builder builder = ScribeData.builder();
+    if (json.category != null) {
+      builder.setCategory(json.category);
+    }
+    if (json.lines != null) {
+      builder.addAllLines(json.lines);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractScribeData} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ScribeData instance
+   */
+  static ScribeData copyOf(AbstractScribeData instance) {
+    if (instance instanceof ScribeData) {
+      return (ScribeData) instance;
+    }
+    return ScribeData.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ScribeData ScribeData}.
+   * @return A new ScribeData builder
+   */
+  public static ScribeData.Builder builder() {
+    return new ScribeData.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ScribeData ScribeData}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CATEGORY = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String category;
+    private ImmutableList.Builder<String> lines = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ScribeData} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ScribeData instance) {
+      return from((AbstractScribeData) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractScribeData} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractScribeData instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCategory(instance.getCategory());
+      addAllLines(instance.getLines());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractScribeData#getCategory() category} attribute.
+     * @param category The value for category 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setCategory(String category) {
+      this.category = Objects.requireNonNull(category, "category");
+      initBits &= ~INIT_BIT_CATEGORY;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractScribeData#getLines() lines} list.
+     * @param element A lines element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLines(String element) {
+      this.lines.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractScribeData#getLines() lines} list.
+     * @param elements An array of lines elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLines(String... elements) {
+      this.lines.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractScribeData#getLines() lines} list.
+     * @param elements An iterable of lines elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setLines(Iterable<String> elements) {
+      this.lines = ImmutableList.builder();
+      return addAllLines(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractScribeData#getLines() lines} list.
+     * @param elements An iterable of lines elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLines(Iterable<String> elements) {
+      this.lines.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ScribeData ScribeData}.
+     * @return An immutable instance of ScribeData
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ScribeData build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ScribeData(category, lines.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CATEGORY) != 0) attributes.add("category");
+      return "Cannot build ScribeData, some of required attributes are not set " + attributes;
+    }
+  }
+}
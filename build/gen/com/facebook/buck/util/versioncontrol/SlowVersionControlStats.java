@@ -0,0 +1,498 @@
+package com.facebook.buck.util.versioncontrol;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractSlowVersionControlStats}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code SlowVersionControlStats.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSlowVersionControlStats"})
+@Immutable
+public final class SlowVersionControlStats
+    implements AbstractSlowVersionControlStats {
+  private final ImmutableSet<String> pathsChangedInWorkingDirectory;
+  private final String currentRevisionId;
+  private final ImmutableSet<String> baseBookmarks;
+  private final String branchedFromMasterRevisionId;
+  private final Long branchedFromMasterTS;
+
+  private SlowVersionControlStats(
+      ImmutableSet<String> pathsChangedInWorkingDirectory,
+      String currentRevisionId,
+      ImmutableSet<String> baseBookmarks,
+      String branchedFromMasterRevisionId,
+      Long branchedFromMasterTS) {
+    this.pathsChangedInWorkingDirectory = pathsChangedInWorkingDirectory;
+    this.currentRevisionId = currentRevisionId;
+    this.baseBookmarks = baseBookmarks;
+    this.branchedFromMasterRevisionId = branchedFromMasterRevisionId;
+    this.branchedFromMasterTS = branchedFromMasterTS;
+  }
+
+  /**
+   * @return The value of the {@code pathsChangedInWorkingDirectory} attribute
+   */
+  @Override
+  public ImmutableSet<String> getPathsChangedInWorkingDirectory() {
+    return pathsChangedInWorkingDirectory;
+  }
+
+  /**
+   * @return The value of the {@code currentRevisionId} attribute
+   */
+  @Override
+  public String getCurrentRevisionId() {
+    return currentRevisionId;
+  }
+
+  /**
+   * @return The value of the {@code baseBookmarks} attribute
+   */
+  @Override
+  public ImmutableSet<String> getBaseBookmarks() {
+    return baseBookmarks;
+  }
+
+  /**
+   * @return The value of the {@code branchedFromMasterRevisionId} attribute
+   */
+  @Override
+  public String getBranchedFromMasterRevisionId() {
+    return branchedFromMasterRevisionId;
+  }
+
+  /**
+   * @return The value of the {@code branchedFromMasterTS} attribute
+   */
+  @Override
+  public Long getBranchedFromMasterTS() {
+    return branchedFromMasterTS;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractSlowVersionControlStats#getPathsChangedInWorkingDirectory() pathsChangedInWorkingDirectory}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SlowVersionControlStats withPathsChangedInWorkingDirectory(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new SlowVersionControlStats(
+        newValue,
+        this.currentRevisionId,
+        this.baseBookmarks,
+        this.branchedFromMasterRevisionId,
+        this.branchedFromMasterTS);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractSlowVersionControlStats#getPathsChangedInWorkingDirectory() pathsChangedInWorkingDirectory}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of pathsChangedInWorkingDirectory elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SlowVersionControlStats withPathsChangedInWorkingDirectory(Iterable<String> elements) {
+    if (this.pathsChangedInWorkingDirectory == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new SlowVersionControlStats(
+        newValue,
+        this.currentRevisionId,
+        this.baseBookmarks,
+        this.branchedFromMasterRevisionId,
+        this.branchedFromMasterTS);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSlowVersionControlStats#getCurrentRevisionId() currentRevisionId} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for currentRevisionId
+   * @return A modified copy of the {@code this} object
+   */
+  public final SlowVersionControlStats withCurrentRevisionId(String value) {
+    if (this.currentRevisionId.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "currentRevisionId");
+    return new SlowVersionControlStats(
+        this.pathsChangedInWorkingDirectory,
+        newValue,
+        this.baseBookmarks,
+        this.branchedFromMasterRevisionId,
+        this.branchedFromMasterTS);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractSlowVersionControlStats#getBaseBookmarks() baseBookmarks}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SlowVersionControlStats withBaseBookmarks(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new SlowVersionControlStats(
+        this.pathsChangedInWorkingDirectory,
+        this.currentRevisionId,
+        newValue,
+        this.branchedFromMasterRevisionId,
+        this.branchedFromMasterTS);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractSlowVersionControlStats#getBaseBookmarks() baseBookmarks}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of baseBookmarks elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SlowVersionControlStats withBaseBookmarks(Iterable<String> elements) {
+    if (this.baseBookmarks == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new SlowVersionControlStats(
+        this.pathsChangedInWorkingDirectory,
+        this.currentRevisionId,
+        newValue,
+        this.branchedFromMasterRevisionId,
+        this.branchedFromMasterTS);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSlowVersionControlStats#getBranchedFromMasterRevisionId() branchedFromMasterRevisionId} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for branchedFromMasterRevisionId
+   * @return A modified copy of the {@code this} object
+   */
+  public final SlowVersionControlStats withBranchedFromMasterRevisionId(String value) {
+    if (this.branchedFromMasterRevisionId.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "branchedFromMasterRevisionId");
+    return new SlowVersionControlStats(
+        this.pathsChangedInWorkingDirectory,
+        this.currentRevisionId,
+        this.baseBookmarks,
+        newValue,
+        this.branchedFromMasterTS);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSlowVersionControlStats#getBranchedFromMasterTS() branchedFromMasterTS} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for branchedFromMasterTS
+   * @return A modified copy of the {@code this} object
+   */
+  public final SlowVersionControlStats withBranchedFromMasterTS(Long value) {
+    if (this.branchedFromMasterTS.equals(value)) return this;
+    Long newValue = Objects.requireNonNull(value, "branchedFromMasterTS");
+    return new SlowVersionControlStats(
+        this.pathsChangedInWorkingDirectory,
+        this.currentRevisionId,
+        this.baseBookmarks,
+        this.branchedFromMasterRevisionId,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SlowVersionControlStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SlowVersionControlStats
+        && equalTo((SlowVersionControlStats) another);
+  }
+
+  private boolean equalTo(SlowVersionControlStats another) {
+    return pathsChangedInWorkingDirectory.equals(another.pathsChangedInWorkingDirectory)
+        && currentRevisionId.equals(another.currentRevisionId)
+        && baseBookmarks.equals(another.baseBookmarks)
+        && branchedFromMasterRevisionId.equals(another.branchedFromMasterRevisionId)
+        && branchedFromMasterTS.equals(another.branchedFromMasterTS);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pathsChangedInWorkingDirectory}, {@code currentRevisionId}, {@code baseBookmarks}, {@code branchedFromMasterRevisionId}, {@code branchedFromMasterTS}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + pathsChangedInWorkingDirectory.hashCode();
+    h += (h << 5) + currentRevisionId.hashCode();
+    h += (h << 5) + baseBookmarks.hashCode();
+    h += (h << 5) + branchedFromMasterRevisionId.hashCode();
+    h += (h << 5) + branchedFromMasterTS.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SlowVersionControlStats} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SlowVersionControlStats")
+        .omitNullValues()
+        .add("pathsChangedInWorkingDirectory", pathsChangedInWorkingDirectory)
+        .add("currentRevisionId", currentRevisionId)
+        .add("baseBookmarks", baseBookmarks)
+        .add("branchedFromMasterRevisionId", branchedFromMasterRevisionId)
+        .add("branchedFromMasterTS", branchedFromMasterTS)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractSlowVersionControlStats} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable SlowVersionControlStats instance
+   */
+  static SlowVersionControlStats copyOf(AbstractSlowVersionControlStats instance) {
+    if (instance instanceof SlowVersionControlStats) {
+      return (SlowVersionControlStats) instance;
+    }
+    return SlowVersionControlStats.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link SlowVersionControlStats SlowVersionControlStats}.
+   * @return A new SlowVersionControlStats builder
+   */
+  public static SlowVersionControlStats.Builder builder() {
+    return new SlowVersionControlStats.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link SlowVersionControlStats SlowVersionControlStats}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CURRENT_REVISION_ID = 0x1L;
+    private static final long INIT_BIT_BRANCHED_FROM_MASTER_REVISION_ID = 0x2L;
+    private static final long INIT_BIT_BRANCHED_FROM_MASTER_T_S = 0x4L;
+    private long initBits = 0x7L;
+
+    private ImmutableSet.Builder<String> pathsChangedInWorkingDirectory = ImmutableSet.builder();
+    private @Nullable String currentRevisionId;
+    private ImmutableSet.Builder<String> baseBookmarks = ImmutableSet.builder();
+    private @Nullable String branchedFromMasterRevisionId;
+    private @Nullable Long branchedFromMasterTS;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.util.versioncontrol.CommonSlowVersionControlStats} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonSlowVersionControlStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.util.versioncontrol.CommonFastVersionControlStats} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonFastVersionControlStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SlowVersionControlStats} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(SlowVersionControlStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractSlowVersionControlStats} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractSlowVersionControlStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof CommonSlowVersionControlStats) {
+        CommonSlowVersionControlStats instance = (CommonSlowVersionControlStats) object;
+        addAllPathsChangedInWorkingDirectory(instance.getPathsChangedInWorkingDirectory());
+      }
+      if (object instanceof CommonFastVersionControlStats) {
+        CommonFastVersionControlStats instance = (CommonFastVersionControlStats) object;
+        addAllBaseBookmarks(instance.getBaseBookmarks());
+        setBranchedFromMasterRevisionId(instance.getBranchedFromMasterRevisionId());
+        setBranchedFromMasterTS(instance.getBranchedFromMasterTS());
+        setCurrentRevisionId(instance.getCurrentRevisionId());
+      }
+    }
+
+    /**
+     * Adds one element to {@link AbstractSlowVersionControlStats#getPathsChangedInWorkingDirectory() pathsChangedInWorkingDirectory} set.
+     * @param element A pathsChangedInWorkingDirectory element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPathsChangedInWorkingDirectory(String element) {
+      this.pathsChangedInWorkingDirectory.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractSlowVersionControlStats#getPathsChangedInWorkingDirectory() pathsChangedInWorkingDirectory} set.
+     * @param elements An array of pathsChangedInWorkingDirectory elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPathsChangedInWorkingDirectory(String... elements) {
+      this.pathsChangedInWorkingDirectory.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractSlowVersionControlStats#getPathsChangedInWorkingDirectory() pathsChangedInWorkingDirectory} set.
+     * @param elements An iterable of pathsChangedInWorkingDirectory elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPathsChangedInWorkingDirectory(Iterable<String> elements) {
+      this.pathsChangedInWorkingDirectory = ImmutableSet.builder();
+      return addAllPathsChangedInWorkingDirectory(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractSlowVersionControlStats#getPathsChangedInWorkingDirectory() pathsChangedInWorkingDirectory} set.
+     * @param elements An iterable of pathsChangedInWorkingDirectory elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPathsChangedInWorkingDirectory(Iterable<String> elements) {
+      this.pathsChangedInWorkingDirectory.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractSlowVersionControlStats#getCurrentRevisionId() currentRevisionId} attribute.
+     * @param currentRevisionId The value for currentRevisionId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCurrentRevisionId(String currentRevisionId) {
+      this.currentRevisionId = Objects.requireNonNull(currentRevisionId, "currentRevisionId");
+      initBits &= ~INIT_BIT_CURRENT_REVISION_ID;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractSlowVersionControlStats#getBaseBookmarks() baseBookmarks} set.
+     * @param element A baseBookmarks element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBaseBookmarks(String element) {
+      this.baseBookmarks.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractSlowVersionControlStats#getBaseBookmarks() baseBookmarks} set.
+     * @param elements An array of baseBookmarks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBaseBookmarks(String... elements) {
+      this.baseBookmarks.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractSlowVersionControlStats#getBaseBookmarks() baseBookmarks} set.
+     * @param elements An iterable of baseBookmarks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBaseBookmarks(Iterable<String> elements) {
+      this.baseBookmarks = ImmutableSet.builder();
+      return addAllBaseBookmarks(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractSlowVersionControlStats#getBaseBookmarks() baseBookmarks} set.
+     * @param elements An iterable of baseBookmarks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllBaseBookmarks(Iterable<String> elements) {
+      this.baseBookmarks.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractSlowVersionControlStats#getBranchedFromMasterRevisionId() branchedFromMasterRevisionId} attribute.
+     * @param branchedFromMasterRevisionId The value for branchedFromMasterRevisionId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBranchedFromMasterRevisionId(String branchedFromMasterRevisionId) {
+      this.branchedFromMasterRevisionId = Objects.requireNonNull(branchedFromMasterRevisionId, "branchedFromMasterRevisionId");
+      initBits &= ~INIT_BIT_BRANCHED_FROM_MASTER_REVISION_ID;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractSlowVersionControlStats#getBranchedFromMasterTS() branchedFromMasterTS} attribute.
+     * @param branchedFromMasterTS The value for branchedFromMasterTS 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBranchedFromMasterTS(Long branchedFromMasterTS) {
+      this.branchedFromMasterTS = Objects.requireNonNull(branchedFromMasterTS, "branchedFromMasterTS");
+      initBits &= ~INIT_BIT_BRANCHED_FROM_MASTER_T_S;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link SlowVersionControlStats SlowVersionControlStats}.
+     * @return An immutable instance of SlowVersionControlStats
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SlowVersionControlStats build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new SlowVersionControlStats(
+          pathsChangedInWorkingDirectory.build(),
+          currentRevisionId,
+          baseBookmarks.build(),
+          branchedFromMasterRevisionId,
+          branchedFromMasterTS);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CURRENT_REVISION_ID) != 0) attributes.add("currentRevisionId");
+      if ((initBits & INIT_BIT_BRANCHED_FROM_MASTER_REVISION_ID) != 0) attributes.add("branchedFromMasterRevisionId");
+      if ((initBits & INIT_BIT_BRANCHED_FROM_MASTER_T_S) != 0) attributes.add("branchedFromMasterTS");
+      return "Cannot build SlowVersionControlStats, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,661 @@
+package com.facebook.buck.util.versioncontrol;
+
+import com.facebook.buck.log.views.JsonViews;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractSparseSummary}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code SparseSummary.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code SparseSummary.of()}.
+ * Use the static factory method to get the default singleton instance:
+ * {@code SparseSummary.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSparseSummary"})
+@Immutable
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public final class SparseSummary extends AbstractSparseSummary {
+  private final int profilesAdded;
+  private final int includeRulesAdded;
+  private final int excludeRulesAdded;
+  private final int filesAdded;
+  private final int filesDropped;
+  private final int filesConflicting;
+
+  private SparseSummary() {
+    this.profilesAdded = initShim.getProfilesAdded();
+    this.includeRulesAdded = initShim.getIncludeRulesAdded();
+    this.excludeRulesAdded = initShim.getExcludeRulesAdded();
+    this.filesAdded = initShim.getFilesAdded();
+    this.filesDropped = initShim.getFilesDropped();
+    this.filesConflicting = initShim.getFilesConflicting();
+    this.initShim = null;
+  }
+
+  private SparseSummary(
+      int profilesAdded,
+      int includeRulesAdded,
+      int excludeRulesAdded,
+      int filesAdded,
+      int filesDropped,
+      int filesConflicting) {
+    this.profilesAdded = profilesAdded;
+    this.includeRulesAdded = includeRulesAdded;
+    this.excludeRulesAdded = excludeRulesAdded;
+    this.filesAdded = filesAdded;
+    this.filesDropped = filesDropped;
+    this.filesConflicting = filesConflicting;
+    initShim.setProfilesAdded(this.profilesAdded);
+    initShim.setIncludeRulesAdded(this.includeRulesAdded);
+    initShim.setExcludeRulesAdded(this.excludeRulesAdded);
+    initShim.setFilesAdded(this.filesAdded);
+    initShim.setFilesDropped(this.filesDropped);
+    initShim.setFilesConflicting(this.filesConflicting);
+    this.initShim = null;
+  }
+
+  private SparseSummary(SparseSummary.Builder builder) {
+    if (builder.profilesAddedIsSet()) {
+      initShim.setProfilesAdded(builder.profilesAdded);
+    }
+    if (builder.includeRulesAddedIsSet()) {
+      initShim.setIncludeRulesAdded(builder.includeRulesAdded);
+    }
+    if (builder.excludeRulesAddedIsSet()) {
+      initShim.setExcludeRulesAdded(builder.excludeRulesAdded);
+    }
+    if (builder.filesAddedIsSet()) {
+      initShim.setFilesAdded(builder.filesAdded);
+    }
+    if (builder.filesDroppedIsSet()) {
+      initShim.setFilesDropped(builder.filesDropped);
+    }
+    if (builder.filesConflictingIsSet()) {
+      initShim.setFilesConflicting(builder.filesConflicting);
+    }
+    this.profilesAdded = initShim.getProfilesAdded();
+    this.includeRulesAdded = initShim.getIncludeRulesAdded();
+    this.excludeRulesAdded = initShim.getExcludeRulesAdded();
+    this.filesAdded = initShim.getFilesAdded();
+    this.filesDropped = initShim.getFilesDropped();
+    this.filesConflicting = initShim.getFilesConflicting();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private int profilesAdded;
+    private int profilesAddedBuildStage;
+
+    int getProfilesAdded() {
+      if (profilesAddedBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (profilesAddedBuildStage == STAGE_UNINITIALIZED) {
+        profilesAddedBuildStage = STAGE_INITIALIZING;
+        this.profilesAdded = SparseSummary.super.getProfilesAdded();
+        profilesAddedBuildStage = STAGE_INITIALIZED;
+      }
+      return this.profilesAdded;
+    }
+
+    void setProfilesAdded(int profilesAdded) {
+      this.profilesAdded = profilesAdded;
+      profilesAddedBuildStage = STAGE_INITIALIZED;
+    }
+    private int includeRulesAdded;
+    private int includeRulesAddedBuildStage;
+
+    int getIncludeRulesAdded() {
+      if (includeRulesAddedBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (includeRulesAddedBuildStage == STAGE_UNINITIALIZED) {
+        includeRulesAddedBuildStage = STAGE_INITIALIZING;
+        this.includeRulesAdded = SparseSummary.super.getIncludeRulesAdded();
+        includeRulesAddedBuildStage = STAGE_INITIALIZED;
+      }
+      return this.includeRulesAdded;
+    }
+
+    void setIncludeRulesAdded(int includeRulesAdded) {
+      this.includeRulesAdded = includeRulesAdded;
+      includeRulesAddedBuildStage = STAGE_INITIALIZED;
+    }
+    private int excludeRulesAdded;
+    private int excludeRulesAddedBuildStage;
+
+    int getExcludeRulesAdded() {
+      if (excludeRulesAddedBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (excludeRulesAddedBuildStage == STAGE_UNINITIALIZED) {
+        excludeRulesAddedBuildStage = STAGE_INITIALIZING;
+        this.excludeRulesAdded = SparseSummary.super.getExcludeRulesAdded();
+        excludeRulesAddedBuildStage = STAGE_INITIALIZED;
+      }
+      return this.excludeRulesAdded;
+    }
+
+    void setExcludeRulesAdded(int excludeRulesAdded) {
+      this.excludeRulesAdded = excludeRulesAdded;
+      excludeRulesAddedBuildStage = STAGE_INITIALIZED;
+    }
+    private int filesAdded;
+    private int filesAddedBuildStage;
+
+    int getFilesAdded() {
+      if (filesAddedBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (filesAddedBuildStage == STAGE_UNINITIALIZED) {
+        filesAddedBuildStage = STAGE_INITIALIZING;
+        this.filesAdded = SparseSummary.super.getFilesAdded();
+        filesAddedBuildStage = STAGE_INITIALIZED;
+      }
+      return this.filesAdded;
+    }
+
+    void setFilesAdded(int filesAdded) {
+      this.filesAdded = filesAdded;
+      filesAddedBuildStage = STAGE_INITIALIZED;
+    }
+    private int filesDropped;
+    private int filesDroppedBuildStage;
+
+    int getFilesDropped() {
+      if (filesDroppedBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (filesDroppedBuildStage == STAGE_UNINITIALIZED) {
+        filesDroppedBuildStage = STAGE_INITIALIZING;
+        this.filesDropped = SparseSummary.super.getFilesDropped();
+        filesDroppedBuildStage = STAGE_INITIALIZED;
+      }
+      return this.filesDropped;
+    }
+
+    void setFilesDropped(int filesDropped) {
+      this.filesDropped = filesDropped;
+      filesDroppedBuildStage = STAGE_INITIALIZED;
+    }
+    private int filesConflicting;
+    private int filesConflictingBuildStage;
+
+    int getFilesConflicting() {
+      if (filesConflictingBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (filesConflictingBuildStage == STAGE_UNINITIALIZED) {
+        filesConflictingBuildStage = STAGE_INITIALIZING;
+        this.filesConflicting = SparseSummary.super.getFilesConflicting();
+        filesConflictingBuildStage = STAGE_INITIALIZED;
+      }
+      return this.filesConflicting;
+    }
+
+    void setFilesConflicting(int filesConflicting) {
+      this.filesConflicting = filesConflicting;
+      filesConflictingBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (profilesAddedBuildStage == STAGE_INITIALIZING) attributes.add("profilesAdded");
+      if (includeRulesAddedBuildStage == STAGE_INITIALIZING) attributes.add("includeRulesAdded");
+      if (excludeRulesAddedBuildStage == STAGE_INITIALIZING) attributes.add("excludeRulesAdded");
+      if (filesAddedBuildStage == STAGE_INITIALIZING) attributes.add("filesAdded");
+      if (filesDroppedBuildStage == STAGE_INITIALIZING) attributes.add("filesDropped");
+      if (filesConflictingBuildStage == STAGE_INITIALIZING) attributes.add("filesConflicting");
+      return "Cannot build SparseSummary, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code profilesAdded} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public int getProfilesAdded() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getProfilesAdded()
+        : this.profilesAdded;
+  }
+
+  /**
+   * @return The value of the {@code includeRulesAdded} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public int getIncludeRulesAdded() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getIncludeRulesAdded()
+        : this.includeRulesAdded;
+  }
+
+  /**
+   * @return The value of the {@code excludeRulesAdded} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public int getExcludeRulesAdded() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExcludeRulesAdded()
+        : this.excludeRulesAdded;
+  }
+
+  /**
+   * @return The value of the {@code filesAdded} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public int getFilesAdded() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getFilesAdded()
+        : this.filesAdded;
+  }
+
+  /**
+   * @return The value of the {@code filesDropped} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public int getFilesDropped() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getFilesDropped()
+        : this.filesDropped;
+  }
+
+  /**
+   * @return The value of the {@code filesConflicting} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public int getFilesConflicting() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getFilesConflicting()
+        : this.filesConflicting;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SparseSummary} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SparseSummary
+        && equalTo((SparseSummary) another);
+  }
+
+  private boolean equalTo(SparseSummary another) {
+    return profilesAdded == another.profilesAdded
+        && includeRulesAdded == another.includeRulesAdded
+        && excludeRulesAdded == another.excludeRulesAdded
+        && filesAdded == another.filesAdded
+        && filesDropped == another.filesDropped
+        && filesConflicting == another.filesConflicting;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code profilesAdded}, {@code includeRulesAdded}, {@code excludeRulesAdded}, {@code filesAdded}, {@code filesDropped}, {@code filesConflicting}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + profilesAdded;
+    h += (h << 5) + includeRulesAdded;
+    h += (h << 5) + excludeRulesAdded;
+    h += (h << 5) + filesAdded;
+    h += (h << 5) + filesDropped;
+    h += (h << 5) + filesConflicting;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SparseSummary} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SparseSummary")
+        .omitNullValues()
+        .add("profilesAdded", profilesAdded)
+        .add("includeRulesAdded", includeRulesAdded)
+        .add("excludeRulesAdded", excludeRulesAdded)
+        .add("filesAdded", filesAdded)
+        .add("filesDropped", filesDropped)
+        .add("filesConflicting", filesConflicting)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractSparseSummary {
+    int profilesAdded;
+    boolean profilesAddedIsSet;
+    int includeRulesAdded;
+    boolean includeRulesAddedIsSet;
+    int excludeRulesAdded;
+    boolean excludeRulesAddedIsSet;
+    int filesAdded;
+    boolean filesAddedIsSet;
+    int filesDropped;
+    boolean filesDroppedIsSet;
+    int filesConflicting;
+    boolean filesConflictingIsSet;
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setProfilesAdded(int profilesAdded) {
+      this.profilesAdded = profilesAdded;
+      this.profilesAddedIsSet = true;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setIncludeRulesAdded(int includeRulesAdded) {
+      this.includeRulesAdded = includeRulesAdded;
+      this.includeRulesAddedIsSet = true;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setExcludeRulesAdded(int excludeRulesAdded) {
+      this.excludeRulesAdded = excludeRulesAdded;
+      this.excludeRulesAddedIsSet = true;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setFilesAdded(int filesAdded) {
+      this.filesAdded = filesAdded;
+      this.filesAddedIsSet = true;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setFilesDropped(int filesDropped) {
+      this.filesDropped = filesDropped;
+      this.filesDroppedIsSet = true;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setFilesConflicting(int filesConflicting) {
+      this.filesConflicting = filesConflicting;
+      this.filesConflictingIsSet = true;
+    }
+    @Override
+    public int getProfilesAdded() { throw new UnsupportedOperationException(); }
+    @Override
+    public int getIncludeRulesAdded() { throw new UnsupportedOperationException(); }
+    @Override
+    public int getExcludeRulesAdded() { throw new UnsupportedOperationException(); }
+    @Override
+    public int getFilesAdded() { throw new UnsupportedOperationException(); }
+    @Override
+    public int getFilesDropped() { throw new UnsupportedOperationException(); }
+    @Override
+    public int getFilesConflicting() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static SparseSummary fromJson(Json json) {
+    SparseSummary.Builder builder = SparseSummary.builder();
+    if (json.profilesAddedIsSet) {
+      builder.setProfilesAdded(json.profilesAdded);
+    }
+    if (json.includeRulesAddedIsSet) {
+      builder.setIncludeRulesAdded(json.includeRulesAdded);
+    }
+    if (json.excludeRulesAddedIsSet) {
+      builder.setExcludeRulesAdded(json.excludeRulesAdded);
+    }
+    if (json.filesAddedIsSet) {
+      builder.setFilesAdded(json.filesAdded);
+    }
+    if (json.filesDroppedIsSet) {
+      builder.setFilesDropped(json.filesDropped);
+    }
+    if (json.filesConflictingIsSet) {
+      builder.setFilesConflicting(json.filesConflicting);
+    }
+    return builder.build();
+  }
+
+  private static final SparseSummary INSTANCE = validate(new SparseSummary());
+
+  /**
+   * Returns the default immutable singleton value of {@code SparseSummary}
+   * @return An immutable instance of SparseSummary
+   */
+  public static SparseSummary of() {
+    return INSTANCE;
+  }
+
+  /**
+   * Construct a new immutable {@code SparseSummary} instance.
+   * @param profilesAdded The value for the {@code profilesAdded} attribute
+   * @param includeRulesAdded The value for the {@code includeRulesAdded} attribute
+   * @param excludeRulesAdded The value for the {@code excludeRulesAdded} attribute
+   * @param filesAdded The value for the {@code filesAdded} attribute
+   * @param filesDropped The value for the {@code filesDropped} attribute
+   * @param filesConflicting The value for the {@code filesConflicting} attribute
+   * @return An immutable SparseSummary instance
+   */
+  public static SparseSummary of(int profilesAdded, int includeRulesAdded, int excludeRulesAdded, int filesAdded, int filesDropped, int filesConflicting) {
+    return validate(new SparseSummary(profilesAdded, includeRulesAdded, excludeRulesAdded, filesAdded, filesDropped, filesConflicting));
+  }
+
+
+  private static SparseSummary validate(SparseSummary instance) {
+    return INSTANCE != null && INSTANCE.equalTo(instance) ? INSTANCE : instance;
+  }
+
+  /**
+   * Creates a builder for {@link SparseSummary SparseSummary}.
+   * @return A new SparseSummary builder
+   */
+  public static SparseSummary.Builder builder() {
+    return new SparseSummary.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link SparseSummary SparseSummary}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long OPT_BIT_PROFILES_ADDED = 0x1L;
+    private static final long OPT_BIT_INCLUDE_RULES_ADDED = 0x2L;
+    private static final long OPT_BIT_EXCLUDE_RULES_ADDED = 0x4L;
+    private static final long OPT_BIT_FILES_ADDED = 0x8L;
+    private static final long OPT_BIT_FILES_DROPPED = 0x10L;
+    private static final long OPT_BIT_FILES_CONFLICTING = 0x20L;
+    private long optBits;
+
+    private int profilesAdded;
+    private int includeRulesAdded;
+    private int excludeRulesAdded;
+    private int filesAdded;
+    private int filesDropped;
+    private int filesConflicting;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractSparseSummary} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AbstractSparseSummary instance) {
+      Objects.requireNonNull(instance, "instance");
+      setProfilesAdded(instance.getProfilesAdded());
+      setIncludeRulesAdded(instance.getIncludeRulesAdded());
+      setExcludeRulesAdded(instance.getExcludeRulesAdded());
+      setFilesAdded(instance.getFilesAdded());
+      setFilesDropped(instance.getFilesDropped());
+      setFilesConflicting(instance.getFilesConflicting());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractSparseSummary#getProfilesAdded() profilesAdded} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractSparseSummary#getProfilesAdded() profilesAdded}.</em>
+     * @param profilesAdded The value for profilesAdded 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public final Builder setProfilesAdded(int profilesAdded) {
+      this.profilesAdded = profilesAdded;
+      optBits |= OPT_BIT_PROFILES_ADDED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractSparseSummary#getIncludeRulesAdded() includeRulesAdded} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractSparseSummary#getIncludeRulesAdded() includeRulesAdded}.</em>
+     * @param includeRulesAdded The value for includeRulesAdded 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public final Builder setIncludeRulesAdded(int includeRulesAdded) {
+      this.includeRulesAdded = includeRulesAdded;
+      optBits |= OPT_BIT_INCLUDE_RULES_ADDED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractSparseSummary#getExcludeRulesAdded() excludeRulesAdded} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractSparseSummary#getExcludeRulesAdded() excludeRulesAdded}.</em>
+     * @param excludeRulesAdded The value for excludeRulesAdded 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public final Builder setExcludeRulesAdded(int excludeRulesAdded) {
+      this.excludeRulesAdded = excludeRulesAdded;
+      optBits |= OPT_BIT_EXCLUDE_RULES_ADDED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractSparseSummary#getFilesAdded() filesAdded} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractSparseSummary#getFilesAdded() filesAdded}.</em>
+     * @param filesAdded The value for filesAdded 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public final Builder setFilesAdded(int filesAdded) {
+      this.filesAdded = filesAdded;
+      optBits |= OPT_BIT_FILES_ADDED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractSparseSummary#getFilesDropped() filesDropped} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractSparseSummary#getFilesDropped() filesDropped}.</em>
+     * @param filesDropped The value for filesDropped 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public final Builder setFilesDropped(int filesDropped) {
+      this.filesDropped = filesDropped;
+      optBits |= OPT_BIT_FILES_DROPPED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractSparseSummary#getFilesConflicting() filesConflicting} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractSparseSummary#getFilesConflicting() filesConflicting}.</em>
+     * @param filesConflicting The value for filesConflicting 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public final Builder setFilesConflicting(int filesConflicting) {
+      this.filesConflicting = filesConflicting;
+      optBits |= OPT_BIT_FILES_CONFLICTING;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link SparseSummary SparseSummary}.
+     * @return An immutable instance of SparseSummary
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SparseSummary build() {
+      return SparseSummary.validate(new SparseSummary(this));
+    }
+
+    private boolean profilesAddedIsSet() {
+      return (optBits & OPT_BIT_PROFILES_ADDED) != 0;
+    }
+
+    private boolean includeRulesAddedIsSet() {
+      return (optBits & OPT_BIT_INCLUDE_RULES_ADDED) != 0;
+    }
+
+    private boolean excludeRulesAddedIsSet() {
+      return (optBits & OPT_BIT_EXCLUDE_RULES_ADDED) != 0;
+    }
+
+    private boolean filesAddedIsSet() {
+      return (optBits & OPT_BIT_FILES_ADDED) != 0;
+    }
+
+    private boolean filesDroppedIsSet() {
+      return (optBits & OPT_BIT_FILES_DROPPED) != 0;
+    }
+
+    private boolean filesConflictingIsSet() {
+      return (optBits & OPT_BIT_FILES_CONFLICTING) != 0;
+    }
+  }
+}
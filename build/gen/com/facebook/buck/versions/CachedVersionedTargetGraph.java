@@ -0,0 +1,176 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.TargetGraphAndBuildTargets;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Tuple to store the previously cached versioned target graph along with all inputs that affect
+ * how it's generated (for invalidation detection).
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "VersionedTargetGraphCache.AbstractCachedVersionedTargetGraph"})
+@Immutable
+public final class CachedVersionedTargetGraph
+    implements VersionedTargetGraphCache.AbstractCachedVersionedTargetGraph {
+  private final VersionedTargetGraphInputs inputs;
+  private final TargetGraphAndBuildTargets targetGraphAndBuildTargets;
+  private final ImmutableMap<BuildTarget, VersionedTargetGraphBuilder.TranslatedRoot> translatedSubGraphs;
+
+  private CachedVersionedTargetGraph(
+      VersionedTargetGraphInputs inputs,
+      TargetGraphAndBuildTargets targetGraphAndBuildTargets,
+      Map<? extends BuildTarget, ? extends VersionedTargetGraphBuilder.TranslatedRoot> translatedSubGraphs) {
+    this.inputs = Objects.requireNonNull(inputs, "inputs");
+    this.targetGraphAndBuildTargets = Objects.requireNonNull(targetGraphAndBuildTargets, "targetGraphAndBuildTargets");
+    this.translatedSubGraphs = ImmutableMap.copyOf(translatedSubGraphs);
+  }
+
+  private CachedVersionedTargetGraph(
+      CachedVersionedTargetGraph original,
+      VersionedTargetGraphInputs inputs,
+      TargetGraphAndBuildTargets targetGraphAndBuildTargets,
+      ImmutableMap<BuildTarget, VersionedTargetGraphBuilder.TranslatedRoot> translatedSubGraphs) {
+    this.inputs = inputs;
+    this.targetGraphAndBuildTargets = targetGraphAndBuildTargets;
+    this.translatedSubGraphs = translatedSubGraphs;
+  }
+
+  /**
+   *@return any inputs which, when changed, may produce a different versioned target graph. 
+   */
+  @Override
+  public VersionedTargetGraphInputs getInputs() {
+    return inputs;
+  }
+
+  /**
+   *@return a versioned target graph. 
+   */
+  @Override
+  public TargetGraphAndBuildTargets getTargetGraphAndBuildTargets() {
+    return targetGraphAndBuildTargets;
+  }
+
+  /**
+   *@return the translated version sub-graphs of the graph, by their root. 
+   */
+  @Override
+  public ImmutableMap<BuildTarget, VersionedTargetGraphBuilder.TranslatedRoot> getTranslatedSubGraphs() {
+    return translatedSubGraphs;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link VersionedTargetGraphCache.AbstractCachedVersionedTargetGraph#getInputs() inputs} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for inputs
+   * @return A modified copy of the {@code this} object
+   */
+  public final CachedVersionedTargetGraph withInputs(VersionedTargetGraphInputs value) {
+    if (this.inputs == value) return this;
+    VersionedTargetGraphInputs newValue = Objects.requireNonNull(value, "inputs");
+    return new CachedVersionedTargetGraph(this, newValue, this.targetGraphAndBuildTargets, this.translatedSubGraphs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link VersionedTargetGraphCache.AbstractCachedVersionedTargetGraph#getTargetGraphAndBuildTargets() targetGraphAndBuildTargets} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for targetGraphAndBuildTargets
+   * @return A modified copy of the {@code this} object
+   */
+  public final CachedVersionedTargetGraph withTargetGraphAndBuildTargets(TargetGraphAndBuildTargets value) {
+    if (this.targetGraphAndBuildTargets == value) return this;
+    TargetGraphAndBuildTargets newValue = Objects.requireNonNull(value, "targetGraphAndBuildTargets");
+    return new CachedVersionedTargetGraph(this, this.inputs, newValue, this.translatedSubGraphs);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link VersionedTargetGraphCache.AbstractCachedVersionedTargetGraph#getTranslatedSubGraphs() translatedSubGraphs} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the translatedSubGraphs map
+   * @return A modified copy of {@code this} object
+   */
+  public final CachedVersionedTargetGraph withTranslatedSubGraphs(Map<? extends BuildTarget, ? extends VersionedTargetGraphBuilder.TranslatedRoot> entries) {
+    if (this.translatedSubGraphs == entries) return this;
+    ImmutableMap<BuildTarget, VersionedTargetGraphBuilder.TranslatedRoot> newValue = ImmutableMap.copyOf(entries);
+    return new CachedVersionedTargetGraph(this, this.inputs, this.targetGraphAndBuildTargets, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CachedVersionedTargetGraph} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CachedVersionedTargetGraph
+        && equalTo((CachedVersionedTargetGraph) another);
+  }
+
+  private boolean equalTo(CachedVersionedTargetGraph another) {
+    return inputs.equals(another.inputs)
+        && targetGraphAndBuildTargets.equals(another.targetGraphAndBuildTargets)
+        && translatedSubGraphs.equals(another.translatedSubGraphs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code inputs}, {@code targetGraphAndBuildTargets}, {@code translatedSubGraphs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + inputs.hashCode();
+    h += (h << 5) + targetGraphAndBuildTargets.hashCode();
+    h += (h << 5) + translatedSubGraphs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CachedVersionedTargetGraph} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CachedVersionedTargetGraph")
+        .omitNullValues()
+        .add("inputs", inputs)
+        .add("targetGraphAndBuildTargets", targetGraphAndBuildTargets)
+        .add("translatedSubGraphs", translatedSubGraphs)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CachedVersionedTargetGraph} instance.
+   * @param inputs The value for the {@code inputs} attribute
+   * @param targetGraphAndBuildTargets The value for the {@code targetGraphAndBuildTargets} attribute
+   * @param translatedSubGraphs The value for the {@code translatedSubGraphs} attribute
+   * @return An immutable CachedVersionedTargetGraph instance
+   */
+  public static CachedVersionedTargetGraph of(VersionedTargetGraphInputs inputs, TargetGraphAndBuildTargets targetGraphAndBuildTargets, Map<? extends BuildTarget, ? extends VersionedTargetGraphBuilder.TranslatedRoot> translatedSubGraphs) {
+    return new CachedVersionedTargetGraph(inputs, targetGraphAndBuildTargets, translatedSubGraphs);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link VersionedTargetGraphCache.AbstractCachedVersionedTargetGraph} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CachedVersionedTargetGraph instance
+   */
+  static CachedVersionedTargetGraph copyOf(VersionedTargetGraphCache.AbstractCachedVersionedTargetGraph instance) {
+    if (instance instanceof CachedVersionedTargetGraph) {
+      return (CachedVersionedTargetGraph) instance;
+    }
+    return CachedVersionedTargetGraph.of(instance.getInputs(), instance.getTargetGraphAndBuildTargets(), instance.getTranslatedSubGraphs());
+  }
+}
@@ -0,0 +1,205 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.TargetGraphAndBuildTargets;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link VersionedTargetGraphCache.AbstractVersionedTargetGraphCacheResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code VersionedTargetGraphCacheResult.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "VersionedTargetGraphCache.AbstractVersionedTargetGraphCacheResult"})
+@Immutable
+public final class VersionedTargetGraphCacheResult
+    implements VersionedTargetGraphCache.AbstractVersionedTargetGraphCacheResult {
+  private final VersionedTargetGraphCache.ResultType type;
+  private final TargetGraphAndBuildTargets targetGraphAndBuildTargets;
+  private final ImmutableSortedSet<BuildTarget> reusedRoots;
+  private final ImmutableSortedSet<BuildTarget> translatedRoots;
+
+  private VersionedTargetGraphCacheResult(
+      VersionedTargetGraphCache.ResultType type,
+      TargetGraphAndBuildTargets targetGraphAndBuildTargets,
+      ImmutableSortedSet<BuildTarget> reusedRoots,
+      ImmutableSortedSet<BuildTarget> translatedRoots) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.targetGraphAndBuildTargets = Objects.requireNonNull(targetGraphAndBuildTargets, "targetGraphAndBuildTargets");
+    this.reusedRoots = Objects.requireNonNull(reusedRoots, "reusedRoots");
+    this.translatedRoots = Objects.requireNonNull(translatedRoots, "translatedRoots");
+  }
+
+  private VersionedTargetGraphCacheResult(
+      VersionedTargetGraphCacheResult original,
+      VersionedTargetGraphCache.ResultType type,
+      TargetGraphAndBuildTargets targetGraphAndBuildTargets,
+      ImmutableSortedSet<BuildTarget> reusedRoots,
+      ImmutableSortedSet<BuildTarget> translatedRoots) {
+    this.type = type;
+    this.targetGraphAndBuildTargets = targetGraphAndBuildTargets;
+    this.reusedRoots = reusedRoots;
+    this.translatedRoots = translatedRoots;
+  }
+
+  /**
+   *@return the type of result. 
+   */
+  @Override
+  public VersionedTargetGraphCache.ResultType getType() {
+    return type;
+  }
+
+  /**
+   *@return a versioned target graph. 
+   */
+  @Override
+  public TargetGraphAndBuildTargets getTargetGraphAndBuildTargets() {
+    return targetGraphAndBuildTargets;
+  }
+
+  /**
+   *@return the version roots whose sub-graph was taken from the cache. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getReusedRoots() {
+    return reusedRoots;
+  }
+
+  /**
+   *@return the version roots whose sub-graph had to be translated. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTranslatedRoots() {
+    return translatedRoots;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link VersionedTargetGraphCache.AbstractVersionedTargetGraphCacheResult#getType() type} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final VersionedTargetGraphCacheResult withType(VersionedTargetGraphCache.ResultType value) {
+    if (this.type == value) return this;
+    VersionedTargetGraphCache.ResultType newValue = Objects.requireNonNull(value, "type");
+    return new VersionedTargetGraphCacheResult(this, newValue, this.targetGraphAndBuildTargets, this.reusedRoots, this.translatedRoots);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link VersionedTargetGraphCache.AbstractVersionedTargetGraphCacheResult#getTargetGraphAndBuildTargets() targetGraphAndBuildTargets} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for targetGraphAndBuildTargets
+   * @return A modified copy of the {@code this} object
+   */
+  public final VersionedTargetGraphCacheResult withTargetGraphAndBuildTargets(TargetGraphAndBuildTargets value) {
+    if (this.targetGraphAndBuildTargets == value) return this;
+    TargetGraphAndBuildTargets newValue = Objects.requireNonNull(value, "targetGraphAndBuildTargets");
+    return new VersionedTargetGraphCacheResult(this, this.type, newValue, this.reusedRoots, this.translatedRoots);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link VersionedTargetGraphCache.AbstractVersionedTargetGraphCacheResult#getReusedRoots() reusedRoots} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for reusedRoots
+   * @return A modified copy of the {@code this} object
+   */
+  public final VersionedTargetGraphCacheResult withReusedRoots(ImmutableSortedSet<BuildTarget> value) {
+    if (this.reusedRoots == value) return this;
+    ImmutableSortedSet<BuildTarget> newValue = Objects.requireNonNull(value, "reusedRoots");
+    return new VersionedTargetGraphCacheResult(this, this.type, this.targetGraphAndBuildTargets, newValue, this.translatedRoots);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link VersionedTargetGraphCache.AbstractVersionedTargetGraphCacheResult#getTranslatedRoots() translatedRoots} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for translatedRoots
+   * @return A modified copy of the {@code this} object
+   */
+  public final VersionedTargetGraphCacheResult withTranslatedRoots(ImmutableSortedSet<BuildTarget> value) {
+    if (this.translatedRoots == value) return this;
+    ImmutableSortedSet<BuildTarget> newValue = Objects.requireNonNull(value, "translatedRoots");
+    return new VersionedTargetGraphCacheResult(this, this.type, this.targetGraphAndBuildTargets, this.reusedRoots, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code VersionedTargetGraphCacheResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof VersionedTargetGraphCacheResult
+        && equalTo((VersionedTargetGraphCacheResult) another);
+  }
+
+  private boolean equalTo(VersionedTargetGraphCacheResult another) {
+    return type.equals(another.type)
+        && targetGraphAndBuildTargets.equals(another.targetGraphAndBuildTargets)
+        && reusedRoots.equals(another.reusedRoots)
+        && translatedRoots.equals(another.translatedRoots);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code targetGraphAndBuildTargets}, {@code reusedRoots}, {@code translatedRoots}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + targetGraphAndBuildTargets.hashCode();
+    h += (h << 5) + reusedRoots.hashCode();
+    h += (h << 5) + translatedRoots.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code VersionedTargetGraphCacheResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("VersionedTargetGraphCacheResult")
+        .omitNullValues()
+        .add("type", type)
+        .add("targetGraphAndBuildTargets", targetGraphAndBuildTargets)
+        .add("reusedRoots", reusedRoots)
+        .add("translatedRoots", translatedRoots)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code VersionedTargetGraphCacheResult} instance.
+   * @param type The value for the {@code type} attribute
+   * @param targetGraphAndBuildTargets The value for the {@code targetGraphAndBuildTargets} attribute
+   * @param reusedRoots The value for the {@code reusedRoots} attribute
+   * @param translatedRoots The value for the {@code translatedRoots} attribute
+   * @return An immutable VersionedTargetGraphCacheResult instance
+   */
+  public static VersionedTargetGraphCacheResult of(VersionedTargetGraphCache.ResultType type, TargetGraphAndBuildTargets targetGraphAndBuildTargets, ImmutableSortedSet<BuildTarget> reusedRoots, ImmutableSortedSet<BuildTarget> translatedRoots) {
+    return new VersionedTargetGraphCacheResult(type, targetGraphAndBuildTargets, reusedRoots, translatedRoots);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link VersionedTargetGraphCache.AbstractVersionedTargetGraphCacheResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable VersionedTargetGraphCacheResult instance
+   */
+  static VersionedTargetGraphCacheResult copyOf(VersionedTargetGraphCache.AbstractVersionedTargetGraphCacheResult instance) {
+    if (instance instanceof VersionedTargetGraphCacheResult) {
+      return (VersionedTargetGraphCacheResult) instance;
+    }
+    return VersionedTargetGraphCacheResult.of(instance.getType(), instance.getTargetGraphAndBuildTargets(), instance.getReusedRoots(), instance.getTranslatedRoots());
+  }
+}
@@ -0,0 +1,131 @@
+package com.facebook.buck.worker;
+
+import com.google.common.base.MoreObjects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractWorkerProcessCommandResponse}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code WorkerProcessCommandResponse.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractWorkerProcessCommandResponse"})
+@Immutable
+public final class WorkerProcessCommandResponse
+    extends AbstractWorkerProcessCommandResponse {
+  private final int messageId;
+  private final int exitCode;
+
+  private WorkerProcessCommandResponse(int messageId, int exitCode) {
+    this.messageId = messageId;
+    this.exitCode = exitCode;
+  }
+
+  /**
+   *Id of the command message this is a response to. 
+   */
+  @Override
+  public int getMessageId() {
+    return messageId;
+  }
+
+  /**
+   *Exit code of the command, or 1 or 2 if the worker could not interpret the command. 
+   */
+  @Override
+  public int getExitCode() {
+    return exitCode;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractWorkerProcessCommandResponse#getMessageId() messageId} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for messageId
+   * @return A modified copy of the {@code this} object
+   */
+  public final WorkerProcessCommandResponse withMessageId(int value) {
+    if (this.messageId == value) return this;
+    return new WorkerProcessCommandResponse(value, this.exitCode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractWorkerProcessCommandResponse#getExitCode() exitCode} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for exitCode
+   * @return A modified copy of the {@code this} object
+   */
+  public final WorkerProcessCommandResponse withExitCode(int value) {
+    if (this.exitCode == value) return this;
+    return new WorkerProcessCommandResponse(this.messageId, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code WorkerProcessCommandResponse} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof WorkerProcessCommandResponse
+        && equalTo((WorkerProcessCommandResponse) another);
+  }
+
+  private boolean equalTo(WorkerProcessCommandResponse another) {
+    return messageId == another.messageId
+        && exitCode == another.exitCode;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code messageId}, {@code exitCode}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + messageId;
+    h += (h << 5) + exitCode;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WorkerProcessCommandResponse} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WorkerProcessCommandResponse")
+        .omitNullValues()
+        .add("messageId", messageId)
+        .add("exitCode", exitCode)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WorkerProcessCommandResponse} instance.
+   * @param messageId The value for the {@code messageId} attribute
+   * @param exitCode The value for the {@code exitCode} attribute
+   * @return An immutable WorkerProcessCommandResponse instance
+   */
+  public static WorkerProcessCommandResponse of(int messageId, int exitCode) {
+    return new WorkerProcessCommandResponse(messageId, exitCode);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractWorkerProcessCommandResponse} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable WorkerProcessCommandResponse instance
+   */
+  static WorkerProcessCommandResponse copyOf(AbstractWorkerProcessCommandResponse instance) {
+    if (instance instanceof WorkerProcessCommandResponse) {
+      return (WorkerProcessCommandResponse) instance;
+    }
+    return WorkerProcessCommandResponse.of(instance.getMessageId(), instance.getExitCode());
+  }
+}
@@ -0,0 +1,900 @@
+package com.facebook.buck.zip.rules;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasSrcs;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ZipFileDescription.AbstractZipFileDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ZipFileDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ZipFileDescription.AbstractZipFileDescriptionArg"})
+@Immutable
+public final class ZipFileDescriptionArg
+    implements ZipFileDescription.AbstractZipFileDescriptionArg {
+  private final String out;
+  private final boolean flatten;
+  private final boolean mergeSourceZips;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<SourcePath> srcs;
+
+  private ZipFileDescriptionArg(ZipFileDescriptionArg.Builder builder) {
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.srcs = builder.srcs.build();
+    if (builder.out != null) {
+      initShim.setOut(builder.out);
+    }
+    if (builder.flattenIsSet()) {
+      initShim.setFlatten(builder.flatten);
+    }
+    if (builder.mergeSourceZipsIsSet()) {
+      initShim.setMergeSourceZips(builder.mergeSourceZips);
+    }
+    this.out = initShim.getOut();
+    this.flatten = initShim.getFlatten();
+    this.mergeSourceZips = initShim.getMergeSourceZips();
+    this.initShim = null;
+  }
+
+  private ZipFileDescriptionArg(
+      String out,
+      boolean flatten,
+      boolean mergeSourceZips,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<SourcePath> srcs) {
+    this.out = out;
+    this.flatten = flatten;
+    this.mergeSourceZips = mergeSourceZips;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.srcs = srcs;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private String out;
+    private int outBuildStage;
+
+    String getOut() {
+      if (outBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (outBuildStage == STAGE_UNINITIALIZED) {
+        outBuildStage = STAGE_INITIALIZING;
+        this.out = Objects.requireNonNull(getOutInitialize(), "out");
+        outBuildStage = STAGE_INITIALIZED;
+      }
+      return this.out;
+    }
+
+    void setOut(String out) {
+      this.out = out;
+      outBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean flatten;
+    private int flattenBuildStage;
+
+    boolean getFlatten() {
+      if (flattenBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (flattenBuildStage == STAGE_UNINITIALIZED) {
+        flattenBuildStage = STAGE_INITIALIZING;
+        this.flatten = getFlattenInitialize();
+        flattenBuildStage = STAGE_INITIALIZED;
+      }
+      return this.flatten;
+    }
+
+    void setFlatten(boolean flatten) {
+      this.flatten = flatten;
+      flattenBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean mergeSourceZips;
+    private int mergeSourceZipsBuildStage;
+
+    boolean getMergeSourceZips() {
+      if (mergeSourceZipsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (mergeSourceZipsBuildStage == STAGE_UNINITIALIZED) {
+        mergeSourceZipsBuildStage = STAGE_INITIALIZING;
+        this.mergeSourceZips = getMergeSourceZipsInitialize();
+        mergeSourceZipsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.mergeSourceZips;
+    }
+
+    void setMergeSourceZips(boolean mergeSourceZips) {
+      this.mergeSourceZips = mergeSourceZips;
+      mergeSourceZipsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (outBuildStage == STAGE_INITIALIZING) attributes.add("out");
+      if (flattenBuildStage == STAGE_INITIALIZING) attributes.add("flatten");
+      if (mergeSourceZipsBuildStage == STAGE_INITIALIZING) attributes.add("mergeSourceZips");
+      return "Cannot build ZipFileDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private String getOutInitialize() {
+    return ZipFileDescription.AbstractZipFileDescriptionArg.super.getOut();
+  }
+
+  private boolean getFlattenInitialize() {
+    return ZipFileDescription.AbstractZipFileDescriptionArg.super.getFlatten();
+  }
+
+  private boolean getMergeSourceZipsInitialize() {
+    return ZipFileDescription.AbstractZipFileDescriptionArg.super.getMergeSourceZips();
+  }
+
+  /**
+   * @return The value of the {@code out} attribute
+   */
+  @Override
+  public String getOut() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getOut()
+        : this.out;
+  }
+
+  /**
+   * @return The value of the {@code flatten} attribute
+   */
+  @Override
+  public boolean getFlatten() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getFlatten()
+        : this.flatten;
+  }
+
+  /**
+   * @return The value of the {@code mergeSourceZips} attribute
+   */
+  @Override
+  public boolean getMergeSourceZips() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMergeSourceZips()
+        : this.mergeSourceZips;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ZipFileDescription.AbstractZipFileDescriptionArg#getOut() out} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for out
+   * @return A modified copy of the {@code this} object
+   */
+  public final ZipFileDescriptionArg withOut(String value) {
+    if (this.out.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "out");
+    return new ZipFileDescriptionArg(
+        newValue,
+        this.flatten,
+        this.mergeSourceZips,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ZipFileDescription.AbstractZipFileDescriptionArg#getFlatten() flatten} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for flatten
+   * @return A modified copy of the {@code this} object
+   */
+  public final ZipFileDescriptionArg withFlatten(boolean value) {
+    if (this.flatten == value) return this;
+    return new ZipFileDescriptionArg(
+        this.out,
+        value,
+        this.mergeSourceZips,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ZipFileDescription.AbstractZipFileDescriptionArg#getMergeSourceZips() mergeSourceZips} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for mergeSourceZips
+   * @return A modified copy of the {@code this} object
+   */
+  public final ZipFileDescriptionArg withMergeSourceZips(boolean value) {
+    if (this.mergeSourceZips == value) return this;
+    return new ZipFileDescriptionArg(this.out, this.flatten, value, this.name, this.licenses, this.labels, this.deps, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ZipFileDescription.AbstractZipFileDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final ZipFileDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new ZipFileDescriptionArg(
+        this.out,
+        this.flatten,
+        this.mergeSourceZips,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ZipFileDescription.AbstractZipFileDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ZipFileDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new ZipFileDescriptionArg(
+        this.out,
+        this.flatten,
+        this.mergeSourceZips,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ZipFileDescription.AbstractZipFileDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ZipFileDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new ZipFileDescriptionArg(
+        this.out,
+        this.flatten,
+        this.mergeSourceZips,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ZipFileDescription.AbstractZipFileDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ZipFileDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new ZipFileDescriptionArg(
+        this.out,
+        this.flatten,
+        this.mergeSourceZips,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ZipFileDescription.AbstractZipFileDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ZipFileDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new ZipFileDescriptionArg(
+        this.out,
+        this.flatten,
+        this.mergeSourceZips,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ZipFileDescription.AbstractZipFileDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ZipFileDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new ZipFileDescriptionArg(
+        this.out,
+        this.flatten,
+        this.mergeSourceZips,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ZipFileDescription.AbstractZipFileDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ZipFileDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new ZipFileDescriptionArg(
+        this.out,
+        this.flatten,
+        this.mergeSourceZips,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ZipFileDescription.AbstractZipFileDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ZipFileDescriptionArg withSrcs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new ZipFileDescriptionArg(
+        this.out,
+        this.flatten,
+        this.mergeSourceZips,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ZipFileDescription.AbstractZipFileDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ZipFileDescriptionArg withSrcs(Iterable<? extends SourcePath> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new ZipFileDescriptionArg(
+        this.out,
+        this.flatten,
+        this.mergeSourceZips,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ZipFileDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ZipFileDescriptionArg
+        && equalTo((ZipFileDescriptionArg) another);
+  }
+
+  private boolean equalTo(ZipFileDescriptionArg another) {
+    return out.equals(another.out)
+        && flatten == another.flatten
+        && mergeSourceZips == another.mergeSourceZips
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && srcs.equals(another.srcs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code out}, {@code flatten}, {@code mergeSourceZips}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code srcs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + out.hashCode();
+    h += (h << 5) + Booleans.hashCode(flatten);
+    h += (h << 5) + Booleans.hashCode(mergeSourceZips);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ZipFileDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ZipFileDescriptionArg")
+        .omitNullValues()
+        .add("out", out)
+        .add("flatten", flatten)
+        .add("mergeSourceZips", mergeSourceZips)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("srcs", srcs)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ZipFileDescription.AbstractZipFileDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ZipFileDescriptionArg instance
+   */
+  static ZipFileDescriptionArg copyOf(ZipFileDescription.AbstractZipFileDescriptionArg instance) {
+    if (instance instanceof ZipFileDescriptionArg) {
+      return (ZipFileDescriptionArg) instance;
+    }
+    return ZipFileDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ZipFileDescriptionArg ZipFileDescriptionArg}.
+   * @return A new ZipFileDescriptionArg builder
+   */
+  public static ZipFileDescriptionArg.Builder builder() {
+    return new ZipFileDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ZipFileDescriptionArg ZipFileDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_FLATTEN = 0x1L;
+    private static final long OPT_BIT_MERGE_SOURCE_ZIPS = 0x2L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable String out;
+    private boolean flatten;
+    private boolean mergeSourceZips;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasSrcs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasSrcs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ZipFileDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ZipFileDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractZipFileDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ZipFileDescription.AbstractZipFileDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasSrcs) {
+        HasSrcs instance = (HasSrcs) object;
+        addAllSrcs(instance.getSrcs());
+      }
+      if (object instanceof ZipFileDescription.AbstractZipFileDescriptionArg) {
+        ZipFileDescription.AbstractZipFileDescriptionArg instance = (ZipFileDescription.AbstractZipFileDescriptionArg) object;
+        setFlatten(instance.getFlatten());
+        setMergeSourceZips(instance.getMergeSourceZips());
+        setOut(instance.getOut());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link ZipFileDescription.AbstractZipFileDescriptionArg#getOut() out} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ZipFileDescription.AbstractZipFileDescriptionArg#getOut() out}.</em>
+     * @param out The value for out 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOut(String out) {
+      this.out = Objects.requireNonNull(out, "out");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link ZipFileDescription.AbstractZipFileDescriptionArg#getFlatten() flatten} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ZipFileDescription.AbstractZipFileDescriptionArg#getFlatten() flatten}.</em>
+     * @param flatten The value for flatten 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFlatten(boolean flatten) {
+      this.flatten = flatten;
+      optBits |= OPT_BIT_FLATTEN;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link ZipFileDescription.AbstractZipFileDescriptionArg#getMergeSourceZips() mergeSourceZips} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ZipFileDescription.AbstractZipFileDescriptionArg#getMergeSourceZips() mergeSourceZips}.</em>
+     * @param mergeSourceZips The value for mergeSourceZips 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMergeSourceZips(boolean mergeSourceZips) {
+      this.mergeSourceZips = mergeSourceZips;
+      optBits |= OPT_BIT_MERGE_SOURCE_ZIPS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link ZipFileDescription.AbstractZipFileDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link ZipFileDescription.AbstractZipFileDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ZipFileDescription.AbstractZipFileDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ZipFileDescription.AbstractZipFileDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link ZipFileDescription.AbstractZipFileDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ZipFileDescription.AbstractZipFileDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ZipFileDescription.AbstractZipFileDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ZipFileDescription.AbstractZipFileDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link ZipFileDescription.AbstractZipFileDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ZipFileDescription.AbstractZipFileDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ZipFileDescription.AbstractZipFileDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ZipFileDescription.AbstractZipFileDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link ZipFileDescription.AbstractZipFileDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ZipFileDescription.AbstractZipFileDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ZipFileDescription.AbstractZipFileDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ZipFileDescription.AbstractZipFileDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link ZipFileDescription.AbstractZipFileDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ZipFileDescriptionArg ZipFileDescriptionArg}.
+     * @return An immutable instance of ZipFileDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ZipFileDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ZipFileDescriptionArg(this);
+    }
+
+    private boolean flattenIsSet() {
+      return (optBits & OPT_BIT_FLATTEN) != 0;
+    }
+
+    private boolean mergeSourceZipsIsSet() {
+      return (optBits & OPT_BIT_MERGE_SOURCE_ZIPS) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build ZipFileDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,825 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.jvm.java.MaybeRequiredForSourceOnlyAbiArg;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidPrebuiltAarDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg"})
+@Immutable
+public final class AndroidPrebuiltAarDescriptionArg
+    implements AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg {
+  private final SourcePath aar;
+  private final @Nullable SourcePath sourceJar;
+  private final @Nullable String javadocUrl;
+  private final boolean requiredForSourceOnlyAbi;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private AndroidPrebuiltAarDescriptionArg(AndroidPrebuiltAarDescriptionArg.Builder builder) {
+    this.aar = builder.aar;
+    this.sourceJar = builder.sourceJar;
+    this.javadocUrl = builder.javadocUrl;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.requiredForSourceOnlyAbi = builder.requiredForSourceOnlyAbiIsSet()
+        ? builder.requiredForSourceOnlyAbi
+        : AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg.super.getRequiredForSourceOnlyAbi();
+  }
+
+  private AndroidPrebuiltAarDescriptionArg(
+      SourcePath aar,
+      @Nullable SourcePath sourceJar,
+      @Nullable String javadocUrl,
+      boolean requiredForSourceOnlyAbi,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.aar = aar;
+    this.sourceJar = sourceJar;
+    this.javadocUrl = javadocUrl;
+    this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+  }
+
+  /**
+   * @return The value of the {@code aar} attribute
+   */
+  @Override
+  public SourcePath getAar() {
+    return aar;
+  }
+
+  /**
+   * @return The value of the {@code sourceJar} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSourceJar() {
+    return Optional.ofNullable(sourceJar);
+  }
+
+  /**
+   * @return The value of the {@code javadocUrl} attribute
+   */
+  @Override
+  public Optional<String> getJavadocUrl() {
+    return Optional.ofNullable(javadocUrl);
+  }
+
+  /**
+   * @return The value of the {@code requiredForSourceOnlyAbi} attribute
+   */
+  @Override
+  public boolean getRequiredForSourceOnlyAbi() {
+    return requiredForSourceOnlyAbi;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getAar() aar} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for aar
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidPrebuiltAarDescriptionArg withAar(SourcePath value) {
+    if (this.aar == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "aar");
+    return new AndroidPrebuiltAarDescriptionArg(
+        newValue,
+        this.sourceJar,
+        this.javadocUrl,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getSourceJar() sourceJar} attribute.
+   * @param value The value for sourceJar
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPrebuiltAarDescriptionArg withSourceJar(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "sourceJar");
+    if (this.sourceJar == newValue) return this;
+    return new AndroidPrebuiltAarDescriptionArg(
+        this.aar,
+        newValue,
+        this.javadocUrl,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getSourceJar() sourceJar} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sourceJar
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPrebuiltAarDescriptionArg withSourceJar(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.sourceJar == value) return this;
+    return new AndroidPrebuiltAarDescriptionArg(
+        this.aar,
+        value,
+        this.javadocUrl,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getJavadocUrl() javadocUrl} attribute.
+   * @param value The value for javadocUrl
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPrebuiltAarDescriptionArg withJavadocUrl(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "javadocUrl");
+    if (Objects.equals(this.javadocUrl, newValue)) return this;
+    return new AndroidPrebuiltAarDescriptionArg(
+        this.aar,
+        this.sourceJar,
+        newValue,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getJavadocUrl() javadocUrl} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for javadocUrl
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPrebuiltAarDescriptionArg withJavadocUrl(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.javadocUrl, value)) return this;
+    return new AndroidPrebuiltAarDescriptionArg(
+        this.aar,
+        this.sourceJar,
+        value,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for requiredForSourceOnlyAbi
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidPrebuiltAarDescriptionArg withRequiredForSourceOnlyAbi(boolean value) {
+    if (this.requiredForSourceOnlyAbi == value) return this;
+    return new AndroidPrebuiltAarDescriptionArg(
+        this.aar,
+        this.sourceJar,
+        this.javadocUrl,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidPrebuiltAarDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new AndroidPrebuiltAarDescriptionArg(
+        this.aar,
+        this.sourceJar,
+        this.javadocUrl,
+        this.requiredForSourceOnlyAbi,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPrebuiltAarDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPrebuiltAarDescriptionArg(
+        this.aar,
+        this.sourceJar,
+        this.javadocUrl,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPrebuiltAarDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPrebuiltAarDescriptionArg(
+        this.aar,
+        this.sourceJar,
+        this.javadocUrl,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPrebuiltAarDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new AndroidPrebuiltAarDescriptionArg(
+        this.aar,
+        this.sourceJar,
+        this.javadocUrl,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPrebuiltAarDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new AndroidPrebuiltAarDescriptionArg(
+        this.aar,
+        this.sourceJar,
+        this.javadocUrl,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPrebuiltAarDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new AndroidPrebuiltAarDescriptionArg(
+        this.aar,
+        this.sourceJar,
+        this.javadocUrl,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidPrebuiltAarDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new AndroidPrebuiltAarDescriptionArg(
+        this.aar,
+        this.sourceJar,
+        this.javadocUrl,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidPrebuiltAarDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidPrebuiltAarDescriptionArg
+        && equalTo((AndroidPrebuiltAarDescriptionArg) another);
+  }
+
+  private boolean equalTo(AndroidPrebuiltAarDescriptionArg another) {
+    return aar.equals(another.aar)
+        && Objects.equals(sourceJar, another.sourceJar)
+        && Objects.equals(javadocUrl, another.javadocUrl)
+        && requiredForSourceOnlyAbi == another.requiredForSourceOnlyAbi
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code aar}, {@code sourceJar}, {@code javadocUrl}, {@code requiredForSourceOnlyAbi}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + aar.hashCode();
+    h += (h << 5) + Objects.hashCode(sourceJar);
+    h += (h << 5) + Objects.hashCode(javadocUrl);
+    h += (h << 5) + Booleans.hashCode(requiredForSourceOnlyAbi);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidPrebuiltAarDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidPrebuiltAarDescriptionArg")
+        .omitNullValues()
+        .add("aar", aar)
+        .add("sourceJar", sourceJar)
+        .add("javadocUrl", javadocUrl)
+        .add("requiredForSourceOnlyAbi", requiredForSourceOnlyAbi)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AndroidPrebuiltAarDescriptionArg instance
+   */
+  static AndroidPrebuiltAarDescriptionArg copyOf(AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg instance) {
+    if (instance instanceof AndroidPrebuiltAarDescriptionArg) {
+      return (AndroidPrebuiltAarDescriptionArg) instance;
+    }
+    return AndroidPrebuiltAarDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidPrebuiltAarDescriptionArg AndroidPrebuiltAarDescriptionArg}.
+   * @return A new AndroidPrebuiltAarDescriptionArg builder
+   */
+  public static AndroidPrebuiltAarDescriptionArg.Builder builder() {
+    return new AndroidPrebuiltAarDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidPrebuiltAarDescriptionArg AndroidPrebuiltAarDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_AAR = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private static final long OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI = 0x1L;
+    private long initBits = 0x3L;
+    private long optBits;
+
+    private @Nullable SourcePath aar;
+    private @Nullable SourcePath sourceJar;
+    private @Nullable String javadocUrl;
+    private boolean requiredForSourceOnlyAbi;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidPrebuiltAarDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidPrebuiltAarDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidPrebuiltAarDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.MaybeRequiredForSourceOnlyAbiArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(MaybeRequiredForSourceOnlyAbiArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg) {
+        AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg instance = (AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg) object;
+        setAar(instance.getAar());
+        Optional<SourcePath> sourceJarOptional = instance.getSourceJar();
+        if (sourceJarOptional.isPresent()) {
+          setSourceJar(sourceJarOptional);
+        }
+        Optional<String> javadocUrlOptional = instance.getJavadocUrl();
+        if (javadocUrlOptional.isPresent()) {
+          setJavadocUrl(javadocUrlOptional);
+        }
+        if ((bits & 0x1L) == 0) {
+          setRequiredForSourceOnlyAbi(instance.getRequiredForSourceOnlyAbi());
+          bits |= 0x1L;
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+      if (object instanceof MaybeRequiredForSourceOnlyAbiArg) {
+        MaybeRequiredForSourceOnlyAbiArg instance = (MaybeRequiredForSourceOnlyAbiArg) object;
+        if ((bits & 0x1L) == 0) {
+          setRequiredForSourceOnlyAbi(instance.getRequiredForSourceOnlyAbi());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getAar() aar} attribute.
+     * @param aar The value for aar 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAar(SourcePath aar) {
+      this.aar = Objects.requireNonNull(aar, "aar");
+      initBits &= ~INIT_BIT_AAR;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getSourceJar() sourceJar} to sourceJar.
+     * @param sourceJar The value for sourceJar
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceJar(SourcePath sourceJar) {
+      this.sourceJar = Objects.requireNonNull(sourceJar, "sourceJar");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getSourceJar() sourceJar} to sourceJar.
+     * @param sourceJar The value for sourceJar
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourceJar(Optional<? extends SourcePath> sourceJar) {
+      this.sourceJar = sourceJar.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getJavadocUrl() javadocUrl} to javadocUrl.
+     * @param javadocUrl The value for javadocUrl
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavadocUrl(String javadocUrl) {
+      this.javadocUrl = Objects.requireNonNull(javadocUrl, "javadocUrl");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getJavadocUrl() javadocUrl} to javadocUrl.
+     * @param javadocUrl The value for javadocUrl
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavadocUrl(Optional<String> javadocUrl) {
+      this.javadocUrl = javadocUrl.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi}.</em>
+     * @param requiredForSourceOnlyAbi The value for requiredForSourceOnlyAbi 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRequiredForSourceOnlyAbi(boolean requiredForSourceOnlyAbi) {
+      this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+      optBits |= OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidPrebuiltAarDescriptionArg AndroidPrebuiltAarDescriptionArg}.
+     * @return An immutable instance of AndroidPrebuiltAarDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidPrebuiltAarDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidPrebuiltAarDescriptionArg(this);
+    }
+
+    private boolean requiredForSourceOnlyAbiIsSet() {
+      return (optBits & OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_AAR) != 0) attributes.add("aar");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AndroidPrebuiltAarDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
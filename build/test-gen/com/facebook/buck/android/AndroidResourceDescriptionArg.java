@@ -0,0 +1,1278 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Either;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidResourceDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AndroidResourceDescription.AbstractAndroidResourceDescriptionArg"})
+@Immutable
+public final class AndroidResourceDescriptionArg
+    implements AndroidResourceDescription.AbstractAndroidResourceDescriptionArg {
+  private final @Nullable Either<SourcePath, ImmutableSortedMap<String, SourcePath>> res;
+  private final @Nullable Either<SourcePath, ImmutableSortedMap<String, SourcePath>> assets;
+  private final @Nullable Path projectRes;
+  private final @Nullable Path projectAssets;
+  private final boolean hasWhitelistedStrings;
+  private final @Nullable String getPackage;
+  private final @Nullable SourcePath manifest;
+  private final boolean resourceUnion;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private AndroidResourceDescriptionArg(AndroidResourceDescriptionArg.Builder builder) {
+    this.res = builder.res;
+    this.assets = builder.assets;
+    this.projectRes = builder.projectRes;
+    this.projectAssets = builder.projectAssets;
+    this.getPackage = builder.getPackage;
+    this.manifest = builder.manifest;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    if (builder.hasWhitelistedStringsIsSet()) {
+      initShim.setHasWhitelistedStrings(builder.hasWhitelistedStrings);
+    }
+    if (builder.resourceUnionIsSet()) {
+      initShim.setResourceUnion(builder.resourceUnion);
+    }
+    this.hasWhitelistedStrings = initShim.getHasWhitelistedStrings();
+    this.resourceUnion = initShim.getResourceUnion();
+    this.initShim = null;
+  }
+
+  private AndroidResourceDescriptionArg(
+      @Nullable Either<SourcePath, ImmutableSortedMap<String, SourcePath>> res,
+      @Nullable Either<SourcePath, ImmutableSortedMap<String, SourcePath>> assets,
+      @Nullable Path projectRes,
+      @Nullable Path projectAssets,
+      boolean hasWhitelistedStrings,
+      @Nullable String getPackage,
+      @Nullable SourcePath manifest,
+      boolean resourceUnion,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.res = res;
+    this.assets = assets;
+    this.projectRes = projectRes;
+    this.projectAssets = projectAssets;
+    this.hasWhitelistedStrings = hasWhitelistedStrings;
+    this.getPackage = getPackage;
+    this.manifest = manifest;
+    this.resourceUnion = resourceUnion;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean hasWhitelistedStrings;
+    private int hasWhitelistedStringsBuildStage;
+
+    boolean getHasWhitelistedStrings() {
+      if (hasWhitelistedStringsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (hasWhitelistedStringsBuildStage == STAGE_UNINITIALIZED) {
+        hasWhitelistedStringsBuildStage = STAGE_INITIALIZING;
+        this.hasWhitelistedStrings = getHasWhitelistedStringsInitialize();
+        hasWhitelistedStringsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.hasWhitelistedStrings;
+    }
+
+    void setHasWhitelistedStrings(boolean hasWhitelistedStrings) {
+      this.hasWhitelistedStrings = hasWhitelistedStrings;
+      hasWhitelistedStringsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean resourceUnion;
+    private int resourceUnionBuildStage;
+
+    boolean getResourceUnion() {
+      if (resourceUnionBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (resourceUnionBuildStage == STAGE_UNINITIALIZED) {
+        resourceUnionBuildStage = STAGE_INITIALIZING;
+        this.resourceUnion = getResourceUnionInitialize();
+        resourceUnionBuildStage = STAGE_INITIALIZED;
+      }
+      return this.resourceUnion;
+    }
+
+    void setResourceUnion(boolean resourceUnion) {
+      this.resourceUnion = resourceUnion;
+      resourceUnionBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (hasWhitelistedStringsBuildStage == STAGE_INITIALIZING) attributes.add("hasWhitelistedStrings");
+      if (resourceUnionBuildStage == STAGE_INITIALIZING) attributes.add("resourceUnion");
+      return "Cannot build AndroidResourceDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private boolean getHasWhitelistedStringsInitialize() {
+    return AndroidResourceDescription.AbstractAndroidResourceDescriptionArg.super.getHasWhitelistedStrings();
+  }
+
+  private boolean getResourceUnionInitialize() {
+    return AndroidResourceDescription.AbstractAndroidResourceDescriptionArg.super.getResourceUnion();
+  }
+
+  /**
+   * @return The value of the {@code res} attribute
+   */
+  @Override
+  public Optional<Either<SourcePath, ImmutableSortedMap<String, SourcePath>>> getRes() {
+    return Optional.ofNullable(res);
+  }
+
+  /**
+   * @return The value of the {@code assets} attribute
+   */
+  @Override
+  public Optional<Either<SourcePath, ImmutableSortedMap<String, SourcePath>>> getAssets() {
+    return Optional.ofNullable(assets);
+  }
+
+  /**
+   * @return The value of the {@code projectRes} attribute
+   */
+  @Override
+  public Optional<Path> getProjectRes() {
+    return Optional.ofNullable(projectRes);
+  }
+
+  /**
+   * @return The value of the {@code projectAssets} attribute
+   */
+  @Override
+  public Optional<Path> getProjectAssets() {
+    return Optional.ofNullable(projectAssets);
+  }
+
+  /**
+   * @return The value of the {@code hasWhitelistedStrings} attribute
+   */
+  @Override
+  public boolean getHasWhitelistedStrings() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getHasWhitelistedStrings()
+        : this.hasWhitelistedStrings;
+  }
+
+  /**
+   * @return The value of the {@code getPackage} attribute
+   */
+  @Override
+  public Optional<String> getPackage() {
+    return Optional.ofNullable(getPackage);
+  }
+
+  /**
+   * @return The value of the {@code manifest} attribute
+   */
+  @Override
+  public Optional<SourcePath> getManifest() {
+    return Optional.ofNullable(manifest);
+  }
+
+  /**
+   * @return The value of the {@code resourceUnion} attribute
+   */
+  @Override
+  public boolean getResourceUnion() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getResourceUnion()
+        : this.resourceUnion;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getRes() res} attribute.
+   * @param value The value for res
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withRes(Either<SourcePath, ImmutableSortedMap<String, SourcePath>> value) {
+    @Nullable Either<SourcePath, ImmutableSortedMap<String, SourcePath>> newValue = Objects.requireNonNull(value, "res");
+    if (this.res == newValue) return this;
+    return new AndroidResourceDescriptionArg(
+        newValue,
+        this.assets,
+        this.projectRes,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        this.manifest,
+        this.resourceUnion,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getRes() res} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for res
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withRes(Optional<? extends Either<SourcePath, ImmutableSortedMap<String, SourcePath>>> optional) {
+    @Nullable Either<SourcePath, ImmutableSortedMap<String, SourcePath>> value = optional.orElse(null);
+    if (this.res == value) return this;
+    return new AndroidResourceDescriptionArg(
+        value,
+        this.assets,
+        this.projectRes,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        this.manifest,
+        this.resourceUnion,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getAssets() assets} attribute.
+   * @param value The value for assets
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withAssets(Either<SourcePath, ImmutableSortedMap<String, SourcePath>> value) {
+    @Nullable Either<SourcePath, ImmutableSortedMap<String, SourcePath>> newValue = Objects.requireNonNull(value, "assets");
+    if (this.assets == newValue) return this;
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        newValue,
+        this.projectRes,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        this.manifest,
+        this.resourceUnion,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getAssets() assets} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for assets
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withAssets(Optional<? extends Either<SourcePath, ImmutableSortedMap<String, SourcePath>>> optional) {
+    @Nullable Either<SourcePath, ImmutableSortedMap<String, SourcePath>> value = optional.orElse(null);
+    if (this.assets == value) return this;
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        value,
+        this.projectRes,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        this.manifest,
+        this.resourceUnion,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getProjectRes() projectRes} attribute.
+   * @param value The value for projectRes
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withProjectRes(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "projectRes");
+    if (this.projectRes == newValue) return this;
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        this.assets,
+        newValue,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        this.manifest,
+        this.resourceUnion,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getProjectRes() projectRes} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for projectRes
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withProjectRes(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.projectRes == value) return this;
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        this.assets,
+        value,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        this.manifest,
+        this.resourceUnion,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getProjectAssets() projectAssets} attribute.
+   * @param value The value for projectAssets
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withProjectAssets(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "projectAssets");
+    if (this.projectAssets == newValue) return this;
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        this.assets,
+        this.projectRes,
+        newValue,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        this.manifest,
+        this.resourceUnion,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getProjectAssets() projectAssets} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for projectAssets
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withProjectAssets(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.projectAssets == value) return this;
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        this.assets,
+        this.projectRes,
+        value,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        this.manifest,
+        this.resourceUnion,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getHasWhitelistedStrings() hasWhitelistedStrings} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for hasWhitelistedStrings
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withHasWhitelistedStrings(boolean value) {
+    if (this.hasWhitelistedStrings == value) return this;
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        this.assets,
+        this.projectRes,
+        this.projectAssets,
+        value,
+        this.getPackage,
+        this.manifest,
+        this.resourceUnion,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getPackage() package} attribute.
+   * @param value The value for getPackage
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withPackage(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "getPackage");
+    if (Objects.equals(this.getPackage, newValue)) return this;
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        this.assets,
+        this.projectRes,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        newValue,
+        this.manifest,
+        this.resourceUnion,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getPackage() package} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for getPackage
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withPackage(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.getPackage, value)) return this;
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        this.assets,
+        this.projectRes,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        value,
+        this.manifest,
+        this.resourceUnion,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getManifest() manifest} attribute.
+   * @param value The value for manifest
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withManifest(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "manifest");
+    if (this.manifest == newValue) return this;
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        this.assets,
+        this.projectRes,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        newValue,
+        this.resourceUnion,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getManifest() manifest} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for manifest
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withManifest(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.manifest == value) return this;
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        this.assets,
+        this.projectRes,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        value,
+        this.resourceUnion,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getResourceUnion() resourceUnion} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for resourceUnion
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withResourceUnion(boolean value) {
+    if (this.resourceUnion == value) return this;
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        this.assets,
+        this.projectRes,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        this.manifest,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        this.assets,
+        this.projectRes,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        this.manifest,
+        this.resourceUnion,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        this.assets,
+        this.projectRes,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        this.manifest,
+        this.resourceUnion,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        this.assets,
+        this.projectRes,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        this.manifest,
+        this.resourceUnion,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        this.assets,
+        this.projectRes,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        this.manifest,
+        this.resourceUnion,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        this.assets,
+        this.projectRes,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        this.manifest,
+        this.resourceUnion,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        this.assets,
+        this.projectRes,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        this.manifest,
+        this.resourceUnion,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidResourceDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new AndroidResourceDescriptionArg(
+        this.res,
+        this.assets,
+        this.projectRes,
+        this.projectAssets,
+        this.hasWhitelistedStrings,
+        this.getPackage,
+        this.manifest,
+        this.resourceUnion,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidResourceDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidResourceDescriptionArg
+        && equalTo((AndroidResourceDescriptionArg) another);
+  }
+
+  private boolean equalTo(AndroidResourceDescriptionArg another) {
+    return Objects.equals(res, another.res)
+        && Objects.equals(assets, another.assets)
+        && Objects.equals(projectRes, another.projectRes)
+        && Objects.equals(projectAssets, another.projectAssets)
+        && hasWhitelistedStrings == another.hasWhitelistedStrings
+        && Objects.equals(getPackage, another.getPackage)
+        && Objects.equals(manifest, another.manifest)
+        && resourceUnion == another.resourceUnion
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code res}, {@code assets}, {@code projectRes}, {@code projectAssets}, {@code hasWhitelistedStrings}, {@code getPackage}, {@code manifest}, {@code resourceUnion}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(res);
+    h += (h << 5) + Objects.hashCode(assets);
+    h += (h << 5) + Objects.hashCode(projectRes);
+    h += (h << 5) + Objects.hashCode(projectAssets);
+    h += (h << 5) + Booleans.hashCode(hasWhitelistedStrings);
+    h += (h << 5) + Objects.hashCode(getPackage);
+    h += (h << 5) + Objects.hashCode(manifest);
+    h += (h << 5) + Booleans.hashCode(resourceUnion);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidResourceDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidResourceDescriptionArg")
+        .omitNullValues()
+        .add("res", res)
+        .add("assets", assets)
+        .add("projectRes", projectRes)
+        .add("projectAssets", projectAssets)
+        .add("hasWhitelistedStrings", hasWhitelistedStrings)
+        .add("package", getPackage)
+        .add("manifest", manifest)
+        .add("resourceUnion", resourceUnion)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AndroidResourceDescriptionArg instance
+   */
+  static AndroidResourceDescriptionArg copyOf(AndroidResourceDescription.AbstractAndroidResourceDescriptionArg instance) {
+    if (instance instanceof AndroidResourceDescriptionArg) {
+      return (AndroidResourceDescriptionArg) instance;
+    }
+    return AndroidResourceDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidResourceDescriptionArg AndroidResourceDescriptionArg}.
+   * @return A new AndroidResourceDescriptionArg builder
+   */
+  public static AndroidResourceDescriptionArg.Builder builder() {
+    return new AndroidResourceDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidResourceDescriptionArg AndroidResourceDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_HAS_WHITELISTED_STRINGS = 0x1L;
+    private static final long OPT_BIT_RESOURCE_UNION = 0x2L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable Either<SourcePath, ImmutableSortedMap<String, SourcePath>> res;
+    private @Nullable Either<SourcePath, ImmutableSortedMap<String, SourcePath>> assets;
+    private @Nullable Path projectRes;
+    private @Nullable Path projectAssets;
+    private boolean hasWhitelistedStrings;
+    private @Nullable String getPackage;
+    private @Nullable SourcePath manifest;
+    private boolean resourceUnion;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidResourceDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidResourceDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidResourceDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AndroidResourceDescription.AbstractAndroidResourceDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof AndroidResourceDescription.AbstractAndroidResourceDescriptionArg) {
+        AndroidResourceDescription.AbstractAndroidResourceDescriptionArg instance = (AndroidResourceDescription.AbstractAndroidResourceDescriptionArg) object;
+        Optional<Either<SourcePath, ImmutableSortedMap<String, SourcePath>>> resOptional = instance.getRes();
+        if (resOptional.isPresent()) {
+          setRes(resOptional);
+        }
+        Optional<Path> projectAssetsOptional = instance.getProjectAssets();
+        if (projectAssetsOptional.isPresent()) {
+          setProjectAssets(projectAssetsOptional);
+        }
+        Optional<String> getPackageOptional = instance.getPackage();
+        if (getPackageOptional.isPresent()) {
+          setPackage(getPackageOptional);
+        }
+        setResourceUnion(instance.getResourceUnion());
+        Optional<Either<SourcePath, ImmutableSortedMap<String, SourcePath>>> assetsOptional = instance.getAssets();
+        if (assetsOptional.isPresent()) {
+          setAssets(assetsOptional);
+        }
+        Optional<Path> projectResOptional = instance.getProjectRes();
+        if (projectResOptional.isPresent()) {
+          setProjectRes(projectResOptional);
+        }
+        setHasWhitelistedStrings(instance.getHasWhitelistedStrings());
+        Optional<SourcePath> manifestOptional = instance.getManifest();
+        if (manifestOptional.isPresent()) {
+          setManifest(manifestOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getRes() res} to res.
+     * @param res The value for res
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRes(Either<SourcePath, ImmutableSortedMap<String, SourcePath>> res) {
+      this.res = Objects.requireNonNull(res, "res");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getRes() res} to res.
+     * @param res The value for res
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRes(Optional<? extends Either<SourcePath, ImmutableSortedMap<String, SourcePath>>> res) {
+      this.res = res.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getAssets() assets} to assets.
+     * @param assets The value for assets
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAssets(Either<SourcePath, ImmutableSortedMap<String, SourcePath>> assets) {
+      this.assets = Objects.requireNonNull(assets, "assets");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getAssets() assets} to assets.
+     * @param assets The value for assets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAssets(Optional<? extends Either<SourcePath, ImmutableSortedMap<String, SourcePath>>> assets) {
+      this.assets = assets.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getProjectRes() projectRes} to projectRes.
+     * @param projectRes The value for projectRes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProjectRes(Path projectRes) {
+      this.projectRes = Objects.requireNonNull(projectRes, "projectRes");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getProjectRes() projectRes} to projectRes.
+     * @param projectRes The value for projectRes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectRes(Optional<? extends Path> projectRes) {
+      this.projectRes = projectRes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getProjectAssets() projectAssets} to projectAssets.
+     * @param projectAssets The value for projectAssets
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProjectAssets(Path projectAssets) {
+      this.projectAssets = Objects.requireNonNull(projectAssets, "projectAssets");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getProjectAssets() projectAssets} to projectAssets.
+     * @param projectAssets The value for projectAssets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectAssets(Optional<? extends Path> projectAssets) {
+      this.projectAssets = projectAssets.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getHasWhitelistedStrings() hasWhitelistedStrings} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getHasWhitelistedStrings() hasWhitelistedStrings}.</em>
+     * @param hasWhitelistedStrings The value for hasWhitelistedStrings 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHasWhitelistedStrings(boolean hasWhitelistedStrings) {
+      this.hasWhitelistedStrings = hasWhitelistedStrings;
+      optBits |= OPT_BIT_HAS_WHITELISTED_STRINGS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getPackage() package} to getPackage.
+     * @param getPackage The value for getPackage
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackage(String getPackage) {
+      this.getPackage = Objects.requireNonNull(getPackage, "getPackage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getPackage() package} to getPackage.
+     * @param getPackage The value for getPackage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackage(Optional<String> getPackage) {
+      this.getPackage = getPackage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getManifest() manifest} to manifest.
+     * @param manifest The value for manifest
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setManifest(SourcePath manifest) {
+      this.manifest = Objects.requireNonNull(manifest, "manifest");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getManifest() manifest} to manifest.
+     * @param manifest The value for manifest
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setManifest(Optional<? extends SourcePath> manifest) {
+      this.manifest = manifest.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getResourceUnion() resourceUnion} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getResourceUnion() resourceUnion}.</em>
+     * @param resourceUnion The value for resourceUnion 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResourceUnion(boolean resourceUnion) {
+      this.resourceUnion = resourceUnion;
+      optBits |= OPT_BIT_RESOURCE_UNION;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidResourceDescription.AbstractAndroidResourceDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidResourceDescriptionArg AndroidResourceDescriptionArg}.
+     * @return An immutable instance of AndroidResourceDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidResourceDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidResourceDescriptionArg(this);
+    }
+
+    private boolean hasWhitelistedStringsIsSet() {
+      return (optBits & OPT_BIT_HAS_WHITELISTED_STRINGS) != 0;
+    }
+
+    private boolean resourceUnionIsSet() {
+      return (optBits & OPT_BIT_RESOURCE_UNION) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AndroidResourceDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
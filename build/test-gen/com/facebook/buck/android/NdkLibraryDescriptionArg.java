@@ -0,0 +1,708 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasSrcs;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code NdkLibraryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "NdkLibraryDescription.AbstractNdkLibraryDescriptionArg"})
+@Immutable
+public final class NdkLibraryDescriptionArg
+    implements NdkLibraryDescription.AbstractNdkLibraryDescriptionArg {
+  private final ImmutableList<String> flags;
+  private final boolean isAsset;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<SourcePath> srcs;
+
+  private NdkLibraryDescriptionArg(NdkLibraryDescriptionArg.Builder builder) {
+    this.flags = builder.flags.build();
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.srcs = builder.srcs.build();
+    this.isAsset = builder.isAssetIsSet()
+        ? builder.isAsset
+        : NdkLibraryDescription.AbstractNdkLibraryDescriptionArg.super.getIsAsset();
+  }
+
+  private NdkLibraryDescriptionArg(
+      ImmutableList<String> flags,
+      boolean isAsset,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<SourcePath> srcs) {
+    this.flags = flags;
+    this.isAsset = isAsset;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.srcs = srcs;
+  }
+
+  /**
+   * @return The value of the {@code flags} attribute
+   */
+  @Override
+  public ImmutableList<String> getFlags() {
+    return flags;
+  }
+
+  /**
+   * @return The value of the {@code isAsset} attribute
+   */
+  @Override
+  public boolean getIsAsset() {
+    return isAsset;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getFlags() flags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final NdkLibraryDescriptionArg withFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new NdkLibraryDescriptionArg(newValue, this.isAsset, this.name, this.licenses, this.labels, this.deps, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getFlags() flags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of flags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final NdkLibraryDescriptionArg withFlags(Iterable<String> elements) {
+    if (this.flags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new NdkLibraryDescriptionArg(newValue, this.isAsset, this.name, this.licenses, this.labels, this.deps, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getIsAsset() isAsset} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for isAsset
+   * @return A modified copy of the {@code this} object
+   */
+  public final NdkLibraryDescriptionArg withIsAsset(boolean value) {
+    if (this.isAsset == value) return this;
+    return new NdkLibraryDescriptionArg(this.flags, value, this.name, this.licenses, this.labels, this.deps, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final NdkLibraryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new NdkLibraryDescriptionArg(this.flags, this.isAsset, newValue, this.licenses, this.labels, this.deps, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final NdkLibraryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new NdkLibraryDescriptionArg(this.flags, this.isAsset, this.name, newValue, this.labels, this.deps, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final NdkLibraryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new NdkLibraryDescriptionArg(this.flags, this.isAsset, this.name, newValue, this.labels, this.deps, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final NdkLibraryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new NdkLibraryDescriptionArg(this.flags, this.isAsset, this.name, this.licenses, newValue, this.deps, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final NdkLibraryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new NdkLibraryDescriptionArg(this.flags, this.isAsset, this.name, this.licenses, newValue, this.deps, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final NdkLibraryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new NdkLibraryDescriptionArg(this.flags, this.isAsset, this.name, this.licenses, this.labels, newValue, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final NdkLibraryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new NdkLibraryDescriptionArg(this.flags, this.isAsset, this.name, this.licenses, this.labels, newValue, this.srcs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final NdkLibraryDescriptionArg withSrcs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new NdkLibraryDescriptionArg(this.flags, this.isAsset, this.name, this.licenses, this.labels, this.deps, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final NdkLibraryDescriptionArg withSrcs(Iterable<? extends SourcePath> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new NdkLibraryDescriptionArg(this.flags, this.isAsset, this.name, this.licenses, this.labels, this.deps, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NdkLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NdkLibraryDescriptionArg
+        && equalTo((NdkLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(NdkLibraryDescriptionArg another) {
+    return flags.equals(another.flags)
+        && isAsset == another.isAsset
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && srcs.equals(another.srcs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code flags}, {@code isAsset}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code srcs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + flags.hashCode();
+    h += (h << 5) + Booleans.hashCode(isAsset);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NdkLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NdkLibraryDescriptionArg")
+        .omitNullValues()
+        .add("flags", flags)
+        .add("isAsset", isAsset)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("srcs", srcs)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable NdkLibraryDescriptionArg instance
+   */
+  static NdkLibraryDescriptionArg copyOf(NdkLibraryDescription.AbstractNdkLibraryDescriptionArg instance) {
+    if (instance instanceof NdkLibraryDescriptionArg) {
+      return (NdkLibraryDescriptionArg) instance;
+    }
+    return NdkLibraryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link NdkLibraryDescriptionArg NdkLibraryDescriptionArg}.
+   * @return A new NdkLibraryDescriptionArg builder
+   */
+  public static NdkLibraryDescriptionArg.Builder builder() {
+    return new NdkLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link NdkLibraryDescriptionArg NdkLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_IS_ASSET = 0x1L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private ImmutableList.Builder<String> flags = ImmutableList.builder();
+    private boolean isAsset;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasSrcs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasSrcs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NdkLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(NdkLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractNdkLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(NdkLibraryDescription.AbstractNdkLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasSrcs) {
+        HasSrcs instance = (HasSrcs) object;
+        addAllSrcs(instance.getSrcs());
+      }
+      if (object instanceof NdkLibraryDescription.AbstractNdkLibraryDescriptionArg) {
+        NdkLibraryDescription.AbstractNdkLibraryDescriptionArg instance = (NdkLibraryDescription.AbstractNdkLibraryDescriptionArg) object;
+        addAllFlags(instance.getFlags());
+        setIsAsset(instance.getIsAsset());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Adds one element to {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getFlags() flags} list.
+     * @param element A flags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFlags(String element) {
+      this.flags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getFlags() flags} list.
+     * @param elements An array of flags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFlags(String... elements) {
+      this.flags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getFlags() flags} list.
+     * @param elements An iterable of flags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFlags(Iterable<String> elements) {
+      this.flags = ImmutableList.builder();
+      return addAllFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getFlags() flags} list.
+     * @param elements An iterable of flags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllFlags(Iterable<String> elements) {
+      this.flags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getIsAsset() isAsset} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getIsAsset() isAsset}.</em>
+     * @param isAsset The value for isAsset 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIsAsset(boolean isAsset) {
+      this.isAsset = isAsset;
+      optBits |= OPT_BIT_IS_ASSET;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link NdkLibraryDescription.AbstractNdkLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link NdkLibraryDescriptionArg NdkLibraryDescriptionArg}.
+     * @return An immutable instance of NdkLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NdkLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new NdkLibraryDescriptionArg(this);
+    }
+
+    private boolean isAssetIsSet() {
+      return (optBits & OPT_BIT_IS_ASSET) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build NdkLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,10058 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.cxx.*;
+import com.facebook.buck.cxx.CxxConstructorArg;
+import com.facebook.buck.cxx.CxxDeps;
+import com.facebook.buck.cxx.CxxLibraryDescription;
+import com.facebook.buck.cxx.LinkableCxxConstructorArg;
+import com.facebook.buck.cxx.toolchain.HasSystemFrameworkAndLibraries;
+import com.facebook.buck.cxx.toolchain.linker.Linker;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Flavor;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasDefaultPlatform;
+import com.facebook.buck.rules.HasTests;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.SourceWithFlags;
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.facebook.buck.rules.coercer.SourceList;
+import com.facebook.buck.rules.macros.StringWithMacros;
+import com.facebook.buck.swift.SwiftCommonArg;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AppleBinaryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AppleBinaryDescription.AbstractAppleBinaryDescriptionArg"})
+@Immutable
+public final class AppleBinaryDescriptionArg
+    implements AppleBinaryDescription.AbstractAppleBinaryDescriptionArg {
+  private final @Nullable SourcePath infoPlist;
+  private final ImmutableMap<String, String> infoPlistSubstitutions;
+  private final ImmutableSortedMap<String, ImmutableMap<String, String>> configs;
+  private final @Nullable String headerPathPrefix;
+  private final SourceList exportedHeaders;
+  private final PatternMatchedCollection<SourceList> exportedPlatformHeaders;
+  private final ImmutableList<StringWithMacros> exportedPreprocessorFlags;
+  private final PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformPreprocessorFlags;
+  private final ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> exportedLangPreprocessorFlags;
+  private final ImmutableList<StringWithMacros> exportedLinkerFlags;
+  private final PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformLinkerFlags;
+  private final ImmutableSortedSet<BuildTarget> exportedDeps;
+  private final PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> exportedPlatformDeps;
+  private final @Nullable Pattern supportedPlatformsRegex;
+  private final @Nullable String soname;
+  private final @Nullable Boolean forceStatic;
+  private final @Nullable Boolean linkWhole;
+  private final @Nullable Boolean canBeAsset;
+  private final @Nullable NativeLinkable.Linkage preferredLinkage;
+  private final @Nullable Boolean xcodePublicHeadersSymlinks;
+  private final @Nullable Boolean xcodePrivateHeadersSymlinks;
+  private final ImmutableList<SourcePath> extraXcodeSources;
+  private final ImmutableList<SourcePath> extraXcodeFiles;
+  private final boolean reexportAllHeaderDependencies;
+  private final @Nullable SourcePath bridgingHeader;
+  private final @Nullable String moduleName;
+  private final CxxDeps exportedCxxDeps;
+  private final CxxDeps cxxDeps;
+  private final @Nullable Linker.LinkableDepType linkStyle;
+  private final boolean thinLto;
+  private final ImmutableSortedSet<SourceWithFlags> srcs;
+  private final PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> platformSrcs;
+  private final SourceList headers;
+  private final ImmutableSortedSet<SourcePath> rawHeaders;
+  private final PatternMatchedCollection<SourceList> platformHeaders;
+  private final @Nullable SourcePath prefixHeader;
+  private final @Nullable SourcePath precompiledHeader;
+  private final ImmutableList<StringWithMacros> compilerFlags;
+  private final ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> langCompilerFlags;
+  private final PatternMatchedCollection<ImmutableList<StringWithMacros>> platformCompilerFlags;
+  private final ImmutableList<StringWithMacros> preprocessorFlags;
+  private final PatternMatchedCollection<ImmutableList<StringWithMacros>> platformPreprocessorFlags;
+  private final ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> langPreprocessorFlags;
+  private final ImmutableList<StringWithMacros> linkerFlags;
+  private final PatternMatchedCollection<ImmutableList<StringWithMacros>> platformLinkerFlags;
+  private final PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+  private final @Nullable String headerNamespace;
+  private final @Nullable Linker.CxxRuntimeType cxxRuntimeType;
+  private final ImmutableList<String> includeDirs;
+  private final ImmutableMap<String, Flavor> defaults;
+  private final ImmutableSortedSet<Flavor> defaultFlavors;
+  private final CxxDeps privateCxxDeps;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final @Nullable Flavor defaultPlatform;
+  private final ImmutableSortedSet<BuildTarget> tests;
+  private final ImmutableSortedSet<FrameworkPath> frameworks;
+  private final ImmutableSortedSet<FrameworkPath> libraries;
+  private final ImmutableList<StringWithMacros> swiftCompilerFlags;
+  private final @Nullable String swiftVersion;
+
+  private AppleBinaryDescriptionArg(AppleBinaryDescriptionArg.Builder builder) {
+    this.infoPlist = builder.infoPlist;
+    this.infoPlistSubstitutions = builder.infoPlistSubstitutions.build();
+    this.configs = builder.configs.build();
+    this.headerPathPrefix = builder.headerPathPrefix;
+    this.exportedPreprocessorFlags = builder.exportedPreprocessorFlags.build();
+    this.exportedLangPreprocessorFlags = builder.exportedLangPreprocessorFlags.build();
+    this.exportedLinkerFlags = builder.exportedLinkerFlags.build();
+    this.exportedDeps = builder.exportedDeps.build();
+    this.supportedPlatformsRegex = builder.supportedPlatformsRegex;
+    this.soname = builder.soname;
+    this.forceStatic = builder.forceStatic;
+    this.linkWhole = builder.linkWhole;
+    this.canBeAsset = builder.canBeAsset;
+    this.preferredLinkage = builder.preferredLinkage;
+    this.xcodePublicHeadersSymlinks = builder.xcodePublicHeadersSymlinks;
+    this.xcodePrivateHeadersSymlinks = builder.xcodePrivateHeadersSymlinks;
+    this.extraXcodeSources = builder.extraXcodeSources.build();
+    this.extraXcodeFiles = builder.extraXcodeFiles.build();
+    this.bridgingHeader = builder.bridgingHeader;
+    this.moduleName = builder.moduleName;
+    this.linkStyle = builder.linkStyle;
+    this.srcs = builder.srcs.build();
+    this.prefixHeader = builder.prefixHeader;
+    this.precompiledHeader = builder.precompiledHeader;
+    this.compilerFlags = builder.compilerFlags.build();
+    this.langCompilerFlags = builder.langCompilerFlags.build();
+    this.preprocessorFlags = builder.preprocessorFlags.build();
+    this.langPreprocessorFlags = builder.langPreprocessorFlags.build();
+    this.linkerFlags = builder.linkerFlags.build();
+    this.headerNamespace = builder.headerNamespace;
+    this.cxxRuntimeType = builder.cxxRuntimeType;
+    this.includeDirs = builder.includeDirs.build();
+    this.defaults = builder.defaults.build();
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.defaultPlatform = builder.defaultPlatform;
+    this.tests = builder.tests.build();
+    this.frameworks = builder.frameworks.build();
+    this.libraries = builder.libraries.build();
+    this.swiftCompilerFlags = builder.swiftCompilerFlags.build();
+    this.swiftVersion = builder.swiftVersion;
+    if (builder.exportedHeaders != null) {
+      initShim.setExportedHeaders(builder.exportedHeaders);
+    }
+    if (builder.exportedPlatformHeaders != null) {
+      initShim.setExportedPlatformHeaders(builder.exportedPlatformHeaders);
+    }
+    if (builder.exportedPlatformPreprocessorFlags != null) {
+      initShim.setExportedPlatformPreprocessorFlags(builder.exportedPlatformPreprocessorFlags);
+    }
+    if (builder.exportedPlatformLinkerFlags != null) {
+      initShim.setExportedPlatformLinkerFlags(builder.exportedPlatformLinkerFlags);
+    }
+    if (builder.exportedPlatformDeps != null) {
+      initShim.setExportedPlatformDeps(builder.exportedPlatformDeps);
+    }
+    if (builder.reexportAllHeaderDependenciesIsSet()) {
+      initShim.setReexportAllHeaderDependencies(builder.reexportAllHeaderDependencies);
+    }
+    if (builder.thinLtoIsSet()) {
+      initShim.setThinLto(builder.thinLto);
+    }
+    if (builder.platformSrcs != null) {
+      initShim.setPlatformSrcs(builder.platformSrcs);
+    }
+    if (builder.headers != null) {
+      initShim.setHeaders(builder.headers);
+    }
+    if (builder.rawHeaders != null) {
+      initShim.setRawHeaders(builder.rawHeaders);
+    }
+    if (builder.platformHeaders != null) {
+      initShim.setPlatformHeaders(builder.platformHeaders);
+    }
+    if (builder.platformCompilerFlags != null) {
+      initShim.setPlatformCompilerFlags(builder.platformCompilerFlags);
+    }
+    if (builder.platformPreprocessorFlags != null) {
+      initShim.setPlatformPreprocessorFlags(builder.platformPreprocessorFlags);
+    }
+    if (builder.platformLinkerFlags != null) {
+      initShim.setPlatformLinkerFlags(builder.platformLinkerFlags);
+    }
+    if (builder.platformDeps != null) {
+      initShim.setPlatformDeps(builder.platformDeps);
+    }
+    this.exportedHeaders = initShim.getExportedHeaders();
+    this.exportedPlatformHeaders = initShim.getExportedPlatformHeaders();
+    this.exportedPlatformPreprocessorFlags = initShim.getExportedPlatformPreprocessorFlags();
+    this.exportedPlatformLinkerFlags = initShim.getExportedPlatformLinkerFlags();
+    this.exportedPlatformDeps = initShim.getExportedPlatformDeps();
+    this.reexportAllHeaderDependencies = initShim.isReexportAllHeaderDependencies();
+    this.thinLto = initShim.getThinLto();
+    this.platformSrcs = initShim.getPlatformSrcs();
+    this.headers = initShim.getHeaders();
+    this.rawHeaders = initShim.getRawHeaders();
+    this.platformHeaders = initShim.getPlatformHeaders();
+    this.platformCompilerFlags = initShim.getPlatformCompilerFlags();
+    this.platformPreprocessorFlags = initShim.getPlatformPreprocessorFlags();
+    this.platformLinkerFlags = initShim.getPlatformLinkerFlags();
+    this.platformDeps = initShim.getPlatformDeps();
+    this.exportedCxxDeps = initShim.getExportedCxxDeps();
+    this.cxxDeps = initShim.getCxxDeps();
+    this.defaultFlavors = initShim.getDefaultFlavors();
+    this.privateCxxDeps = initShim.getPrivateCxxDeps();
+    this.initShim = null;
+  }
+
+  private AppleBinaryDescriptionArg(
+      @Nullable SourcePath infoPlist,
+      ImmutableMap<String, String> infoPlistSubstitutions,
+      ImmutableSortedMap<String, ImmutableMap<String, String>> configs,
+      @Nullable String headerPathPrefix,
+      SourceList exportedHeaders,
+      PatternMatchedCollection<SourceList> exportedPlatformHeaders,
+      ImmutableList<StringWithMacros> exportedPreprocessorFlags,
+      PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformPreprocessorFlags,
+      ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> exportedLangPreprocessorFlags,
+      ImmutableList<StringWithMacros> exportedLinkerFlags,
+      PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformLinkerFlags,
+      ImmutableSortedSet<BuildTarget> exportedDeps,
+      PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> exportedPlatformDeps,
+      @Nullable Pattern supportedPlatformsRegex,
+      @Nullable String soname,
+      @Nullable Boolean forceStatic,
+      @Nullable Boolean linkWhole,
+      @Nullable Boolean canBeAsset,
+      @Nullable NativeLinkable.Linkage preferredLinkage,
+      @Nullable Boolean xcodePublicHeadersSymlinks,
+      @Nullable Boolean xcodePrivateHeadersSymlinks,
+      ImmutableList<SourcePath> extraXcodeSources,
+      ImmutableList<SourcePath> extraXcodeFiles,
+      boolean reexportAllHeaderDependencies,
+      @Nullable SourcePath bridgingHeader,
+      @Nullable String moduleName,
+      @Nullable Linker.LinkableDepType linkStyle,
+      boolean thinLto,
+      ImmutableSortedSet<SourceWithFlags> srcs,
+      PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> platformSrcs,
+      SourceList headers,
+      ImmutableSortedSet<SourcePath> rawHeaders,
+      PatternMatchedCollection<SourceList> platformHeaders,
+      @Nullable SourcePath prefixHeader,
+      @Nullable SourcePath precompiledHeader,
+      ImmutableList<StringWithMacros> compilerFlags,
+      ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> langCompilerFlags,
+      PatternMatchedCollection<ImmutableList<StringWithMacros>> platformCompilerFlags,
+      ImmutableList<StringWithMacros> preprocessorFlags,
+      PatternMatchedCollection<ImmutableList<StringWithMacros>> platformPreprocessorFlags,
+      ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> langPreprocessorFlags,
+      ImmutableList<StringWithMacros> linkerFlags,
+      PatternMatchedCollection<ImmutableList<StringWithMacros>> platformLinkerFlags,
+      PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps,
+      @Nullable String headerNamespace,
+      @Nullable Linker.CxxRuntimeType cxxRuntimeType,
+      ImmutableList<String> includeDirs,
+      ImmutableMap<String, Flavor> defaults,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps,
+      @Nullable Flavor defaultPlatform,
+      ImmutableSortedSet<BuildTarget> tests,
+      ImmutableSortedSet<FrameworkPath> frameworks,
+      ImmutableSortedSet<FrameworkPath> libraries,
+      ImmutableList<StringWithMacros> swiftCompilerFlags,
+      @Nullable String swiftVersion) {
+    this.infoPlist = infoPlist;
+    this.infoPlistSubstitutions = infoPlistSubstitutions;
+    this.configs = configs;
+    this.headerPathPrefix = headerPathPrefix;
+    this.exportedHeaders = exportedHeaders;
+    this.exportedPlatformHeaders = exportedPlatformHeaders;
+    this.exportedPreprocessorFlags = exportedPreprocessorFlags;
+    this.exportedPlatformPreprocessorFlags = exportedPlatformPreprocessorFlags;
+    this.exportedLangPreprocessorFlags = exportedLangPreprocessorFlags;
+    this.exportedLinkerFlags = exportedLinkerFlags;
+    this.exportedPlatformLinkerFlags = exportedPlatformLinkerFlags;
+    this.exportedDeps = exportedDeps;
+    this.exportedPlatformDeps = exportedPlatformDeps;
+    this.supportedPlatformsRegex = supportedPlatformsRegex;
+    this.soname = soname;
+    this.forceStatic = forceStatic;
+    this.linkWhole = linkWhole;
+    this.canBeAsset = canBeAsset;
+    this.preferredLinkage = preferredLinkage;
+    this.xcodePublicHeadersSymlinks = xcodePublicHeadersSymlinks;
+    this.xcodePrivateHeadersSymlinks = xcodePrivateHeadersSymlinks;
+    this.extraXcodeSources = extraXcodeSources;
+    this.extraXcodeFiles = extraXcodeFiles;
+    this.reexportAllHeaderDependencies = reexportAllHeaderDependencies;
+    this.bridgingHeader = bridgingHeader;
+    this.moduleName = moduleName;
+    this.linkStyle = linkStyle;
+    this.thinLto = thinLto;
+    this.srcs = srcs;
+    this.platformSrcs = platformSrcs;
+    this.headers = headers;
+    this.rawHeaders = rawHeaders;
+    this.platformHeaders = platformHeaders;
+    this.prefixHeader = prefixHeader;
+    this.precompiledHeader = precompiledHeader;
+    this.compilerFlags = compilerFlags;
+    this.langCompilerFlags = langCompilerFlags;
+    this.platformCompilerFlags = platformCompilerFlags;
+    this.preprocessorFlags = preprocessorFlags;
+    this.platformPreprocessorFlags = platformPreprocessorFlags;
+    this.langPreprocessorFlags = langPreprocessorFlags;
+    this.linkerFlags = linkerFlags;
+    this.platformLinkerFlags = platformLinkerFlags;
+    this.platformDeps = platformDeps;
+    this.headerNamespace = headerNamespace;
+    this.cxxRuntimeType = cxxRuntimeType;
+    this.includeDirs = includeDirs;
+    this.defaults = defaults;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.defaultPlatform = defaultPlatform;
+    this.tests = tests;
+    this.frameworks = frameworks;
+    this.libraries = libraries;
+    this.swiftCompilerFlags = swiftCompilerFlags;
+    this.swiftVersion = swiftVersion;
+    initShim.setExportedHeaders(this.exportedHeaders);
+    initShim.setExportedPlatformHeaders(this.exportedPlatformHeaders);
+    initShim.setExportedPlatformPreprocessorFlags(this.exportedPlatformPreprocessorFlags);
+    initShim.setExportedPlatformLinkerFlags(this.exportedPlatformLinkerFlags);
+    initShim.setExportedPlatformDeps(this.exportedPlatformDeps);
+    initShim.setReexportAllHeaderDependencies(this.reexportAllHeaderDependencies);
+    initShim.setThinLto(this.thinLto);
+    initShim.setPlatformSrcs(this.platformSrcs);
+    initShim.setHeaders(this.headers);
+    initShim.setRawHeaders(this.rawHeaders);
+    initShim.setPlatformHeaders(this.platformHeaders);
+    initShim.setPlatformCompilerFlags(this.platformCompilerFlags);
+    initShim.setPlatformPreprocessorFlags(this.platformPreprocessorFlags);
+    initShim.setPlatformLinkerFlags(this.platformLinkerFlags);
+    initShim.setPlatformDeps(this.platformDeps);
+    this.exportedCxxDeps = initShim.getExportedCxxDeps();
+    this.cxxDeps = initShim.getCxxDeps();
+    this.defaultFlavors = initShim.getDefaultFlavors();
+    this.privateCxxDeps = initShim.getPrivateCxxDeps();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private SourceList exportedHeaders;
+    private int exportedHeadersBuildStage;
+
+    SourceList getExportedHeaders() {
+      if (exportedHeadersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedHeadersBuildStage == STAGE_UNINITIALIZED) {
+        exportedHeadersBuildStage = STAGE_INITIALIZING;
+        this.exportedHeaders = Objects.requireNonNull(getExportedHeadersInitialize(), "exportedHeaders");
+        exportedHeadersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedHeaders;
+    }
+
+    void setExportedHeaders(SourceList exportedHeaders) {
+      this.exportedHeaders = exportedHeaders;
+      exportedHeadersBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<SourceList> exportedPlatformHeaders;
+    private int exportedPlatformHeadersBuildStage;
+
+    PatternMatchedCollection<SourceList> getExportedPlatformHeaders() {
+      if (exportedPlatformHeadersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedPlatformHeadersBuildStage == STAGE_UNINITIALIZED) {
+        exportedPlatformHeadersBuildStage = STAGE_INITIALIZING;
+        this.exportedPlatformHeaders = Objects.requireNonNull(getExportedPlatformHeadersInitialize(), "exportedPlatformHeaders");
+        exportedPlatformHeadersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedPlatformHeaders;
+    }
+
+    void setExportedPlatformHeaders(PatternMatchedCollection<SourceList> exportedPlatformHeaders) {
+      this.exportedPlatformHeaders = exportedPlatformHeaders;
+      exportedPlatformHeadersBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformPreprocessorFlags;
+    private int exportedPlatformPreprocessorFlagsBuildStage;
+
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformPreprocessorFlags() {
+      if (exportedPlatformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedPlatformPreprocessorFlagsBuildStage == STAGE_UNINITIALIZED) {
+        exportedPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZING;
+        this.exportedPlatformPreprocessorFlags = Objects.requireNonNull(getExportedPlatformPreprocessorFlagsInitialize(), "exportedPlatformPreprocessorFlags");
+        exportedPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedPlatformPreprocessorFlags;
+    }
+
+    void setExportedPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformPreprocessorFlags) {
+      this.exportedPlatformPreprocessorFlags = exportedPlatformPreprocessorFlags;
+      exportedPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformLinkerFlags;
+    private int exportedPlatformLinkerFlagsBuildStage;
+
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformLinkerFlags() {
+      if (exportedPlatformLinkerFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedPlatformLinkerFlagsBuildStage == STAGE_UNINITIALIZED) {
+        exportedPlatformLinkerFlagsBuildStage = STAGE_INITIALIZING;
+        this.exportedPlatformLinkerFlags = Objects.requireNonNull(getExportedPlatformLinkerFlagsInitialize(), "exportedPlatformLinkerFlags");
+        exportedPlatformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedPlatformLinkerFlags;
+    }
+
+    void setExportedPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformLinkerFlags) {
+      this.exportedPlatformLinkerFlags = exportedPlatformLinkerFlags;
+      exportedPlatformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> exportedPlatformDeps;
+    private int exportedPlatformDepsBuildStage;
+
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getExportedPlatformDeps() {
+      if (exportedPlatformDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedPlatformDepsBuildStage == STAGE_UNINITIALIZED) {
+        exportedPlatformDepsBuildStage = STAGE_INITIALIZING;
+        this.exportedPlatformDeps = Objects.requireNonNull(getExportedPlatformDepsInitialize(), "exportedPlatformDeps");
+        exportedPlatformDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedPlatformDeps;
+    }
+
+    void setExportedPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> exportedPlatformDeps) {
+      this.exportedPlatformDeps = exportedPlatformDeps;
+      exportedPlatformDepsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean reexportAllHeaderDependencies;
+    private int reexportAllHeaderDependenciesBuildStage;
+
+    boolean isReexportAllHeaderDependencies() {
+      if (reexportAllHeaderDependenciesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (reexportAllHeaderDependenciesBuildStage == STAGE_UNINITIALIZED) {
+        reexportAllHeaderDependenciesBuildStage = STAGE_INITIALIZING;
+        this.reexportAllHeaderDependencies = isReexportAllHeaderDependenciesInitialize();
+        reexportAllHeaderDependenciesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.reexportAllHeaderDependencies;
+    }
+
+    void setReexportAllHeaderDependencies(boolean reexportAllHeaderDependencies) {
+      this.reexportAllHeaderDependencies = reexportAllHeaderDependencies;
+      reexportAllHeaderDependenciesBuildStage = STAGE_INITIALIZED;
+    }
+    private CxxDeps exportedCxxDeps;
+    private int exportedCxxDepsBuildStage;
+
+    CxxDeps getExportedCxxDeps() {
+      if (exportedCxxDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedCxxDepsBuildStage == STAGE_UNINITIALIZED) {
+        exportedCxxDepsBuildStage = STAGE_INITIALIZING;
+        this.exportedCxxDeps = Objects.requireNonNull(getExportedCxxDepsInitialize(), "exportedCxxDeps");
+        exportedCxxDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedCxxDeps;
+    }
+    private CxxDeps cxxDeps;
+    private int cxxDepsBuildStage;
+
+    CxxDeps getCxxDeps() {
+      if (cxxDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (cxxDepsBuildStage == STAGE_UNINITIALIZED) {
+        cxxDepsBuildStage = STAGE_INITIALIZING;
+        this.cxxDeps = Objects.requireNonNull(getCxxDepsInitialize(), "cxxDeps");
+        cxxDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.cxxDeps;
+    }
+    private boolean thinLto;
+    private int thinLtoBuildStage;
+
+    boolean getThinLto() {
+      if (thinLtoBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (thinLtoBuildStage == STAGE_UNINITIALIZED) {
+        thinLtoBuildStage = STAGE_INITIALIZING;
+        this.thinLto = getThinLtoInitialize();
+        thinLtoBuildStage = STAGE_INITIALIZED;
+      }
+      return this.thinLto;
+    }
+
+    void setThinLto(boolean thinLto) {
+      this.thinLto = thinLto;
+      thinLtoBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> platformSrcs;
+    private int platformSrcsBuildStage;
+
+    PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> getPlatformSrcs() {
+      if (platformSrcsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformSrcsBuildStage == STAGE_UNINITIALIZED) {
+        platformSrcsBuildStage = STAGE_INITIALIZING;
+        this.platformSrcs = Objects.requireNonNull(getPlatformSrcsInitialize(), "platformSrcs");
+        platformSrcsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformSrcs;
+    }
+
+    void setPlatformSrcs(PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> platformSrcs) {
+      this.platformSrcs = platformSrcs;
+      platformSrcsBuildStage = STAGE_INITIALIZED;
+    }
+    private SourceList headers;
+    private int headersBuildStage;
+
+    SourceList getHeaders() {
+      if (headersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (headersBuildStage == STAGE_UNINITIALIZED) {
+        headersBuildStage = STAGE_INITIALIZING;
+        this.headers = Objects.requireNonNull(getHeadersInitialize(), "headers");
+        headersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.headers;
+    }
+
+    void setHeaders(SourceList headers) {
+      this.headers = headers;
+      headersBuildStage = STAGE_INITIALIZED;
+    }
+    private ImmutableSortedSet<SourcePath> rawHeaders;
+    private int rawHeadersBuildStage;
+
+    ImmutableSortedSet<SourcePath> getRawHeaders() {
+      if (rawHeadersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (rawHeadersBuildStage == STAGE_UNINITIALIZED) {
+        rawHeadersBuildStage = STAGE_INITIALIZING;
+        this.rawHeaders = Objects.requireNonNull(getRawHeadersInitialize(), "rawHeaders");
+        rawHeadersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.rawHeaders;
+    }
+
+    void setRawHeaders(ImmutableSortedSet<SourcePath> rawHeaders) {
+      this.rawHeaders = rawHeaders;
+      rawHeadersBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<SourceList> platformHeaders;
+    private int platformHeadersBuildStage;
+
+    PatternMatchedCollection<SourceList> getPlatformHeaders() {
+      if (platformHeadersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformHeadersBuildStage == STAGE_UNINITIALIZED) {
+        platformHeadersBuildStage = STAGE_INITIALIZING;
+        this.platformHeaders = Objects.requireNonNull(getPlatformHeadersInitialize(), "platformHeaders");
+        platformHeadersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformHeaders;
+    }
+
+    void setPlatformHeaders(PatternMatchedCollection<SourceList> platformHeaders) {
+      this.platformHeaders = platformHeaders;
+      platformHeadersBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableList<StringWithMacros>> platformCompilerFlags;
+    private int platformCompilerFlagsBuildStage;
+
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformCompilerFlags() {
+      if (platformCompilerFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformCompilerFlagsBuildStage == STAGE_UNINITIALIZED) {
+        platformCompilerFlagsBuildStage = STAGE_INITIALIZING;
+        this.platformCompilerFlags = Objects.requireNonNull(getPlatformCompilerFlagsInitialize(), "platformCompilerFlags");
+        platformCompilerFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformCompilerFlags;
+    }
+
+    void setPlatformCompilerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformCompilerFlags) {
+      this.platformCompilerFlags = platformCompilerFlags;
+      platformCompilerFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableList<StringWithMacros>> platformPreprocessorFlags;
+    private int platformPreprocessorFlagsBuildStage;
+
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformPreprocessorFlags() {
+      if (platformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformPreprocessorFlagsBuildStage == STAGE_UNINITIALIZED) {
+        platformPreprocessorFlagsBuildStage = STAGE_INITIALIZING;
+        this.platformPreprocessorFlags = Objects.requireNonNull(getPlatformPreprocessorFlagsInitialize(), "platformPreprocessorFlags");
+        platformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformPreprocessorFlags;
+    }
+
+    void setPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformPreprocessorFlags) {
+      this.platformPreprocessorFlags = platformPreprocessorFlags;
+      platformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableList<StringWithMacros>> platformLinkerFlags;
+    private int platformLinkerFlagsBuildStage;
+
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformLinkerFlags() {
+      if (platformLinkerFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformLinkerFlagsBuildStage == STAGE_UNINITIALIZED) {
+        platformLinkerFlagsBuildStage = STAGE_INITIALIZING;
+        this.platformLinkerFlags = Objects.requireNonNull(getPlatformLinkerFlagsInitialize(), "platformLinkerFlags");
+        platformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformLinkerFlags;
+    }
+
+    void setPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformLinkerFlags) {
+      this.platformLinkerFlags = platformLinkerFlags;
+      platformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private int platformDepsBuildStage;
+
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+      if (platformDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformDepsBuildStage == STAGE_UNINITIALIZED) {
+        platformDepsBuildStage = STAGE_INITIALIZING;
+        this.platformDeps = Objects.requireNonNull(getPlatformDepsInitialize(), "platformDeps");
+        platformDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformDeps;
+    }
+
+    void setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = platformDeps;
+      platformDepsBuildStage = STAGE_INITIALIZED;
+    }
+    private ImmutableSortedSet<Flavor> defaultFlavors;
+    private int defaultFlavorsBuildStage;
+
+    ImmutableSortedSet<Flavor> getDefaultFlavors() {
+      if (defaultFlavorsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (defaultFlavorsBuildStage == STAGE_UNINITIALIZED) {
+        defaultFlavorsBuildStage = STAGE_INITIALIZING;
+        this.defaultFlavors = Objects.requireNonNull(getDefaultFlavorsInitialize(), "defaultFlavors");
+        defaultFlavorsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.defaultFlavors;
+    }
+    private CxxDeps privateCxxDeps;
+    private int privateCxxDepsBuildStage;
+
+    CxxDeps getPrivateCxxDeps() {
+      if (privateCxxDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (privateCxxDepsBuildStage == STAGE_UNINITIALIZED) {
+        privateCxxDepsBuildStage = STAGE_INITIALIZING;
+        this.privateCxxDeps = Objects.requireNonNull(getPrivateCxxDepsInitialize(), "privateCxxDeps");
+        privateCxxDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.privateCxxDeps;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (exportedHeadersBuildStage == STAGE_INITIALIZING) attributes.add("exportedHeaders");
+      if (exportedPlatformHeadersBuildStage == STAGE_INITIALIZING) attributes.add("exportedPlatformHeaders");
+      if (exportedPlatformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) attributes.add("exportedPlatformPreprocessorFlags");
+      if (exportedPlatformLinkerFlagsBuildStage == STAGE_INITIALIZING) attributes.add("exportedPlatformLinkerFlags");
+      if (exportedPlatformDepsBuildStage == STAGE_INITIALIZING) attributes.add("exportedPlatformDeps");
+      if (reexportAllHeaderDependenciesBuildStage == STAGE_INITIALIZING) attributes.add("reexportAllHeaderDependencies");
+      if (exportedCxxDepsBuildStage == STAGE_INITIALIZING) attributes.add("exportedCxxDeps");
+      if (cxxDepsBuildStage == STAGE_INITIALIZING) attributes.add("cxxDeps");
+      if (thinLtoBuildStage == STAGE_INITIALIZING) attributes.add("thinLto");
+      if (platformSrcsBuildStage == STAGE_INITIALIZING) attributes.add("platformSrcs");
+      if (headersBuildStage == STAGE_INITIALIZING) attributes.add("headers");
+      if (rawHeadersBuildStage == STAGE_INITIALIZING) attributes.add("rawHeaders");
+      if (platformHeadersBuildStage == STAGE_INITIALIZING) attributes.add("platformHeaders");
+      if (platformCompilerFlagsBuildStage == STAGE_INITIALIZING) attributes.add("platformCompilerFlags");
+      if (platformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) attributes.add("platformPreprocessorFlags");
+      if (platformLinkerFlagsBuildStage == STAGE_INITIALIZING) attributes.add("platformLinkerFlags");
+      if (platformDepsBuildStage == STAGE_INITIALIZING) attributes.add("platformDeps");
+      if (defaultFlavorsBuildStage == STAGE_INITIALIZING) attributes.add("defaultFlavors");
+      if (privateCxxDepsBuildStage == STAGE_INITIALIZING) attributes.add("privateCxxDeps");
+      return "Cannot build AppleBinaryDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private SourceList getExportedHeadersInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getExportedHeaders();
+  }
+
+  private PatternMatchedCollection<SourceList> getExportedPlatformHeadersInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getExportedPlatformHeaders();
+  }
+
+  private PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformPreprocessorFlagsInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getExportedPlatformPreprocessorFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformLinkerFlagsInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getExportedPlatformLinkerFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getExportedPlatformDepsInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getExportedPlatformDeps();
+  }
+
+  private boolean isReexportAllHeaderDependenciesInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.isReexportAllHeaderDependencies();
+  }
+
+  private CxxDeps getExportedCxxDepsInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getExportedCxxDeps();
+  }
+
+  private CxxDeps getCxxDepsInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getCxxDeps();
+  }
+
+  private boolean getThinLtoInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getThinLto();
+  }
+
+  private PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> getPlatformSrcsInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getPlatformSrcs();
+  }
+
+  private SourceList getHeadersInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getHeaders();
+  }
+
+  private ImmutableSortedSet<SourcePath> getRawHeadersInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getRawHeaders();
+  }
+
+  private PatternMatchedCollection<SourceList> getPlatformHeadersInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getPlatformHeaders();
+  }
+
+  private PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformCompilerFlagsInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getPlatformCompilerFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformPreprocessorFlagsInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getPlatformPreprocessorFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformLinkerFlagsInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getPlatformLinkerFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDepsInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getPlatformDeps();
+  }
+
+  private ImmutableSortedSet<Flavor> getDefaultFlavorsInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getDefaultFlavors();
+  }
+
+  private CxxDeps getPrivateCxxDepsInitialize() {
+    return AppleBinaryDescription.AbstractAppleBinaryDescriptionArg.super.getPrivateCxxDeps();
+  }
+
+  /**
+   * @return The value of the {@code infoPlist} attribute
+   */
+  @Override
+  public Optional<SourcePath> getInfoPlist() {
+    return Optional.ofNullable(infoPlist);
+  }
+
+  /**
+   * @return The value of the {@code infoPlistSubstitutions} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getInfoPlistSubstitutions() {
+    return infoPlistSubstitutions;
+  }
+
+  /**
+   * @return The value of the {@code configs} attribute
+   */
+  @Override
+  public ImmutableSortedMap<String, ImmutableMap<String, String>> getConfigs() {
+    return configs;
+  }
+
+  /**
+   * @return The value of the {@code headerPathPrefix} attribute
+   */
+  @Override
+  public Optional<String> getHeaderPathPrefix() {
+    return Optional.ofNullable(headerPathPrefix);
+  }
+
+  /**
+   * @return The value of the {@code exportedHeaders} attribute
+   */
+  @Override
+  public SourceList getExportedHeaders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedHeaders()
+        : this.exportedHeaders;
+  }
+
+  /**
+   * @return The value of the {@code exportedPlatformHeaders} attribute
+   */
+  @Override
+  public PatternMatchedCollection<SourceList> getExportedPlatformHeaders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedPlatformHeaders()
+        : this.exportedPlatformHeaders;
+  }
+
+  /**
+   * @return The value of the {@code exportedPreprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getExportedPreprocessorFlags() {
+    return exportedPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedPlatformPreprocessorFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformPreprocessorFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedPlatformPreprocessorFlags()
+        : this.exportedPlatformPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedLangPreprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> getExportedLangPreprocessorFlags() {
+    return exportedLangPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedLinkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getExportedLinkerFlags() {
+    return exportedLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedPlatformLinkerFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformLinkerFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedPlatformLinkerFlags()
+        : this.exportedPlatformLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getExportedDeps() {
+    return exportedDeps;
+  }
+
+  /**
+   * @return The value of the {@code exportedPlatformDeps} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getExportedPlatformDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedPlatformDeps()
+        : this.exportedPlatformDeps;
+  }
+
+  /**
+   * @return The value of the {@code supportedPlatformsRegex} attribute
+   */
+  @Override
+  public Optional<Pattern> getSupportedPlatformsRegex() {
+    return Optional.ofNullable(supportedPlatformsRegex);
+  }
+
+  /**
+   * @return The value of the {@code soname} attribute
+   */
+  @Override
+  public Optional<String> getSoname() {
+    return Optional.ofNullable(soname);
+  }
+
+  /**
+   * @return The value of the {@code forceStatic} attribute
+   */
+  @Override
+  public Optional<Boolean> getForceStatic() {
+    return Optional.ofNullable(forceStatic);
+  }
+
+  /**
+   * @return The value of the {@code linkWhole} attribute
+   */
+  @Override
+  public Optional<Boolean> getLinkWhole() {
+    return Optional.ofNullable(linkWhole);
+  }
+
+  /**
+   * @return The value of the {@code canBeAsset} attribute
+   */
+  @Override
+  public Optional<Boolean> getCanBeAsset() {
+    return Optional.ofNullable(canBeAsset);
+  }
+
+  /**
+   * @return The value of the {@code preferredLinkage} attribute
+   */
+  @Override
+  public Optional<NativeLinkable.Linkage> getPreferredLinkage() {
+    return Optional.ofNullable(preferredLinkage);
+  }
+
+  /**
+   * @return The value of the {@code xcodePublicHeadersSymlinks} attribute
+   */
+  @Override
+  public Optional<Boolean> getXcodePublicHeadersSymlinks() {
+    return Optional.ofNullable(xcodePublicHeadersSymlinks);
+  }
+
+  /**
+   * @return The value of the {@code xcodePrivateHeadersSymlinks} attribute
+   */
+  @Override
+  public Optional<Boolean> getXcodePrivateHeadersSymlinks() {
+    return Optional.ofNullable(xcodePrivateHeadersSymlinks);
+  }
+
+  /**
+   * extra_xcode_sources will add the files to the list of files to be compiled in the Xcode
+   * target.
+   */
+  @Override
+  public ImmutableList<SourcePath> getExtraXcodeSources() {
+    return extraXcodeSources;
+  }
+
+  /**
+   * extra_xcode_sources will add the files to the list of files in the project and won't add them
+   * to an Xcode target.
+   */
+  @Override
+  public ImmutableList<SourcePath> getExtraXcodeFiles() {
+    return extraXcodeFiles;
+  }
+
+  /**
+   * Controls whether the headers of dependencies in "deps" is re-exported for compiling targets
+   * that depend on this one.
+   */
+  @Override
+  public boolean isReexportAllHeaderDependencies() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isReexportAllHeaderDependencies()
+        : this.reexportAllHeaderDependencies;
+  }
+
+  /**
+   * These fields are passed through to SwiftLibrary for mixed C/Swift targets; they are not used
+   * otherwise.
+   */
+  @Override
+  public Optional<SourcePath> getBridgingHeader() {
+    return Optional.ofNullable(bridgingHeader);
+  }
+
+  /**
+   * @return The value of the {@code moduleName} attribute
+   */
+  @Override
+  public Optional<String> getModuleName() {
+    return Optional.ofNullable(moduleName);
+  }
+
+  /**
+   *@return C/C++ deps which are propagated to dependents. 
+   */
+  @Override
+  public CxxDeps getExportedCxxDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedCxxDeps()
+        : this.exportedCxxDeps;
+  }
+
+  /**
+   * Override parent class's deps to include exported deps.
+   * @return the C/C++ deps this rule builds against.
+   */
+  @Override
+  public CxxDeps getCxxDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCxxDeps()
+        : this.cxxDeps;
+  }
+
+  /**
+   * @return The value of the {@code linkStyle} attribute
+   */
+  @Override
+  public Optional<Linker.LinkableDepType> getLinkStyle() {
+    return Optional.ofNullable(linkStyle);
+  }
+
+  /**
+   * @return The value of the {@code thinLto} attribute
+   */
+  @Override
+  public boolean getThinLto() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getThinLto()
+        : this.thinLto;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourceWithFlags> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * @return The value of the {@code platformSrcs} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> getPlatformSrcs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformSrcs()
+        : this.platformSrcs;
+  }
+
+  /**
+   * @return The value of the {@code headers} attribute
+   */
+  @Override
+  public SourceList getHeaders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getHeaders()
+        : this.headers;
+  }
+
+  /**
+   * Raw headers are headers which are used as they are (via compilation flags). Buck doesn't copy
+   * them or create symlinks for them. They are public (since managed by compilation flags).
+   * @return a list of raw headers
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getRawHeaders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRawHeaders()
+        : this.rawHeaders;
+  }
+
+  /**
+   * @return The value of the {@code platformHeaders} attribute
+   */
+  @Override
+  public PatternMatchedCollection<SourceList> getPlatformHeaders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformHeaders()
+        : this.platformHeaders;
+  }
+
+  /**
+   * @return The value of the {@code prefixHeader} attribute
+   */
+  @Override
+  public Optional<SourcePath> getPrefixHeader() {
+    return Optional.ofNullable(prefixHeader);
+  }
+
+  /**
+   * @return The value of the {@code precompiledHeader} attribute
+   */
+  @Override
+  public Optional<SourcePath> getPrecompiledHeader() {
+    return Optional.ofNullable(precompiledHeader);
+  }
+
+  /**
+   * @return The value of the {@code compilerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getCompilerFlags() {
+    return compilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code langCompilerFlags} attribute
+   */
+  @Override
+  public ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> getLangCompilerFlags() {
+    return langCompilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code platformCompilerFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformCompilerFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformCompilerFlags()
+        : this.platformCompilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code preprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getPreprocessorFlags() {
+    return preprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code platformPreprocessorFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformPreprocessorFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformPreprocessorFlags()
+        : this.platformPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code langPreprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> getLangPreprocessorFlags() {
+    return langPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code platformLinkerFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformLinkerFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformLinkerFlags()
+        : this.platformLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code platformDeps} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformDeps()
+        : this.platformDeps;
+  }
+
+  /**
+   * @return The value of the {@code headerNamespace} attribute
+   */
+  @Override
+  public Optional<String> getHeaderNamespace() {
+    return Optional.ofNullable(headerNamespace);
+  }
+
+  /**
+   * @return The value of the {@code cxxRuntimeType} attribute
+   */
+  @Override
+  public Optional<Linker.CxxRuntimeType> getCxxRuntimeType() {
+    return Optional.ofNullable(cxxRuntimeType);
+  }
+
+  /**
+   * @return The value of the {@code includeDirs} attribute
+   */
+  @Override
+  public ImmutableList<String> getIncludeDirs() {
+    return includeDirs;
+  }
+
+  /**
+   * @return The value of the {@code defaults} attribute
+   */
+  @Override
+  public ImmutableMap<String, Flavor> getDefaults() {
+    return defaults;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code defaultFlavors} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Flavor> getDefaultFlavors() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDefaultFlavors()
+        : this.defaultFlavors;
+  }
+
+  /**
+   *@return C/C++ deps which are *not* propagated to dependents. 
+   */
+  @Override
+  public CxxDeps getPrivateCxxDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPrivateCxxDeps()
+        : this.privateCxxDeps;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return If present, the default platform with which to build this target if none are provided
+   *     on the command line.
+   */
+  @Override
+  public Optional<Flavor> getDefaultPlatform() {
+    return Optional.ofNullable(defaultPlatform);
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * @return The value of the {@code frameworks} attribute
+   */
+  @Override
+  public ImmutableSortedSet<FrameworkPath> getFrameworks() {
+    return frameworks;
+  }
+
+  /**
+   * @return The value of the {@code libraries} attribute
+   */
+  @Override
+  public ImmutableSortedSet<FrameworkPath> getLibraries() {
+    return libraries;
+  }
+
+  /**
+   * @return The value of the {@code swiftCompilerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getSwiftCompilerFlags() {
+    return swiftCompilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code swiftVersion} attribute
+   */
+  @Override
+  public Optional<String> getSwiftVersion() {
+    return Optional.ofNullable(swiftVersion);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getInfoPlist() infoPlist} attribute.
+   * @param value The value for infoPlist
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withInfoPlist(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "infoPlist");
+    if (this.infoPlist == newValue) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        newValue,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getInfoPlist() infoPlist} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for infoPlist
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withInfoPlist(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.infoPlist == value) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        value,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the infoPlistSubstitutions map
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withInfoPlistSubstitutions(Map<String, ? extends String> entries) {
+    if (this.infoPlistSubstitutions == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        newValue,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getConfigs() configs} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the configs map
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withConfigs(Map<String, ? extends ImmutableMap<String, String>> entries) {
+    if (this.configs == entries) return this;
+    ImmutableSortedMap<String, ImmutableMap<String, String>> newValue = ImmutableSortedMap.copyOf(entries,
+        Ordering.<String>natural()
+    );
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        newValue,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getHeaderPathPrefix() headerPathPrefix} attribute.
+   * @param value The value for headerPathPrefix
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withHeaderPathPrefix(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "headerPathPrefix");
+    if (Objects.equals(this.headerPathPrefix, newValue)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        newValue,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getHeaderPathPrefix() headerPathPrefix} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for headerPathPrefix
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withHeaderPathPrefix(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.headerPathPrefix, value)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        value,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedHeaders() exportedHeaders} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for exportedHeaders
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withExportedHeaders(SourceList value) {
+    if (this.exportedHeaders == value) return this;
+    SourceList newValue = Objects.requireNonNull(value, "exportedHeaders");
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        newValue,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPlatformHeaders() exportedPlatformHeaders} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for exportedPlatformHeaders
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withExportedPlatformHeaders(PatternMatchedCollection<SourceList> value) {
+    if (this.exportedPlatformHeaders == value) return this;
+    PatternMatchedCollection<SourceList> newValue = Objects.requireNonNull(value, "exportedPlatformHeaders");
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        newValue,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withExportedPreprocessorFlags(StringWithMacros... elements) {
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        newValue,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedPreprocessorFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withExportedPreprocessorFlags(Iterable<? extends StringWithMacros> elements) {
+    if (this.exportedPreprocessorFlags == elements) return this;
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        newValue,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPlatformPreprocessorFlags() exportedPlatformPreprocessorFlags} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for exportedPlatformPreprocessorFlags
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withExportedPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> value) {
+    if (this.exportedPlatformPreprocessorFlags == value) return this;
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> newValue = Objects.requireNonNull(value, "exportedPlatformPreprocessorFlags");
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        newValue,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the exportedLangPreprocessorFlags map
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withExportedLangPreprocessorFlags(Map<? extends CxxSource.Type, ? extends ImmutableList<StringWithMacros>> entries) {
+    if (this.exportedLangPreprocessorFlags == entries) return this;
+    ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> newValue = ImmutableMap.copyOf(entries);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        newValue,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withExportedLinkerFlags(StringWithMacros... elements) {
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        newValue,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedLinkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withExportedLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+    if (this.exportedLinkerFlags == elements) return this;
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        newValue,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPlatformLinkerFlags() exportedPlatformLinkerFlags} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for exportedPlatformLinkerFlags
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withExportedPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> value) {
+    if (this.exportedPlatformLinkerFlags == value) return this;
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> newValue = Objects.requireNonNull(value, "exportedPlatformLinkerFlags");
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        newValue,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedDeps() exportedDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withExportedDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        newValue,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedDeps() exportedDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withExportedDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.exportedDeps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        newValue,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPlatformDeps() exportedPlatformDeps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for exportedPlatformDeps
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withExportedPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> value) {
+    if (this.exportedPlatformDeps == value) return this;
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> newValue = Objects.requireNonNull(value, "exportedPlatformDeps");
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        newValue,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} attribute.
+   * @param value The value for supportedPlatformsRegex
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withSupportedPlatformsRegex(Pattern value) {
+    @Nullable Pattern newValue = Objects.requireNonNull(value, "supportedPlatformsRegex");
+    if (this.supportedPlatformsRegex == newValue) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        newValue,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for supportedPlatformsRegex
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withSupportedPlatformsRegex(Optional<? extends Pattern> optional) {
+    @Nullable Pattern value = optional.orElse(null);
+    if (this.supportedPlatformsRegex == value) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        value,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSoname() soname} attribute.
+   * @param value The value for soname
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withSoname(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "soname");
+    if (Objects.equals(this.soname, newValue)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        newValue,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSoname() soname} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for soname
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withSoname(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.soname, value)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        value,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getForceStatic() forceStatic} attribute.
+   * @param value The value for forceStatic
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withForceStatic(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.forceStatic, newValue)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        newValue,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getForceStatic() forceStatic} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for forceStatic
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withForceStatic(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.forceStatic, value)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        value,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLinkWhole() linkWhole} attribute.
+   * @param value The value for linkWhole
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withLinkWhole(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.linkWhole, newValue)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        newValue,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLinkWhole() linkWhole} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for linkWhole
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withLinkWhole(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.linkWhole, value)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        value,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getCanBeAsset() canBeAsset} attribute.
+   * @param value The value for canBeAsset
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withCanBeAsset(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.canBeAsset, newValue)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        newValue,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getCanBeAsset() canBeAsset} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for canBeAsset
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withCanBeAsset(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.canBeAsset, value)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        value,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPreferredLinkage() preferredLinkage} attribute.
+   * @param value The value for preferredLinkage
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withPreferredLinkage(NativeLinkable.Linkage value) {
+    @Nullable NativeLinkable.Linkage newValue = Objects.requireNonNull(value, "preferredLinkage");
+    if (this.preferredLinkage == newValue) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        newValue,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPreferredLinkage() preferredLinkage} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for preferredLinkage
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withPreferredLinkage(Optional<? extends NativeLinkable.Linkage> optional) {
+    @Nullable NativeLinkable.Linkage value = optional.orElse(null);
+    if (Objects.equals(this.preferredLinkage, value)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        value,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getXcodePublicHeadersSymlinks() xcodePublicHeadersSymlinks} attribute.
+   * @param value The value for xcodePublicHeadersSymlinks
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withXcodePublicHeadersSymlinks(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.xcodePublicHeadersSymlinks, newValue)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        newValue,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getXcodePublicHeadersSymlinks() xcodePublicHeadersSymlinks} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for xcodePublicHeadersSymlinks
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withXcodePublicHeadersSymlinks(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.xcodePublicHeadersSymlinks, value)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        value,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getXcodePrivateHeadersSymlinks() xcodePrivateHeadersSymlinks} attribute.
+   * @param value The value for xcodePrivateHeadersSymlinks
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withXcodePrivateHeadersSymlinks(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.xcodePrivateHeadersSymlinks, newValue)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        newValue,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getXcodePrivateHeadersSymlinks() xcodePrivateHeadersSymlinks} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for xcodePrivateHeadersSymlinks
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withXcodePrivateHeadersSymlinks(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.xcodePrivateHeadersSymlinks, value)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        value,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExtraXcodeSources() extraXcodeSources}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withExtraXcodeSources(SourcePath... elements) {
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        newValue,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExtraXcodeSources() extraXcodeSources}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of extraXcodeSources elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withExtraXcodeSources(Iterable<? extends SourcePath> elements) {
+    if (this.extraXcodeSources == elements) return this;
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        newValue,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExtraXcodeFiles() extraXcodeFiles}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withExtraXcodeFiles(SourcePath... elements) {
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        newValue,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExtraXcodeFiles() extraXcodeFiles}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of extraXcodeFiles elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withExtraXcodeFiles(Iterable<? extends SourcePath> elements) {
+    if (this.extraXcodeFiles == elements) return this;
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        newValue,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#isReexportAllHeaderDependencies() reexportAllHeaderDependencies} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for reexportAllHeaderDependencies
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withReexportAllHeaderDependencies(boolean value) {
+    if (this.reexportAllHeaderDependencies == value) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        value,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getBridgingHeader() bridgingHeader} attribute.
+   * @param value The value for bridgingHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withBridgingHeader(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "bridgingHeader");
+    if (this.bridgingHeader == newValue) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        newValue,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getBridgingHeader() bridgingHeader} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for bridgingHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withBridgingHeader(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.bridgingHeader == value) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        value,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getModuleName() moduleName} attribute.
+   * @param value The value for moduleName
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withModuleName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "moduleName");
+    if (Objects.equals(this.moduleName, newValue)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        newValue,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getModuleName() moduleName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for moduleName
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withModuleName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.moduleName, value)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        value,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLinkStyle() linkStyle} attribute.
+   * @param value The value for linkStyle
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withLinkStyle(Linker.LinkableDepType value) {
+    @Nullable Linker.LinkableDepType newValue = Objects.requireNonNull(value, "linkStyle");
+    if (this.linkStyle == newValue) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        newValue,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLinkStyle() linkStyle} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for linkStyle
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withLinkStyle(Optional<? extends Linker.LinkableDepType> optional) {
+    @Nullable Linker.LinkableDepType value = optional.orElse(null);
+    if (Objects.equals(this.linkStyle, value)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        value,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getThinLto() thinLto} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for thinLto
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withThinLto(boolean value) {
+    if (this.thinLto == value) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        value,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withSrcs(SourceWithFlags... elements) {
+    ImmutableSortedSet<SourceWithFlags> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourceWithFlags>natural(),
+        Arrays.asList(elements));
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        newValue,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withSrcs(Iterable<? extends SourceWithFlags> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSortedSet<SourceWithFlags> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourceWithFlags>natural(),
+        elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        newValue,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformSrcs() platformSrcs} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformSrcs
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withPlatformSrcs(PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> value) {
+    if (this.platformSrcs == value) return this;
+    PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> newValue = Objects.requireNonNull(value, "platformSrcs");
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        newValue,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getHeaders() headers} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for headers
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withHeaders(SourceList value) {
+    if (this.headers == value) return this;
+    SourceList newValue = Objects.requireNonNull(value, "headers");
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        newValue,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getRawHeaders() rawHeaders} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for rawHeaders
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withRawHeaders(ImmutableSortedSet<SourcePath> value) {
+    if (this.rawHeaders == value) return this;
+    ImmutableSortedSet<SourcePath> newValue = Objects.requireNonNull(value, "rawHeaders");
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        newValue,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformHeaders() platformHeaders} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformHeaders
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withPlatformHeaders(PatternMatchedCollection<SourceList> value) {
+    if (this.platformHeaders == value) return this;
+    PatternMatchedCollection<SourceList> newValue = Objects.requireNonNull(value, "platformHeaders");
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        newValue,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPrefixHeader() prefixHeader} attribute.
+   * @param value The value for prefixHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withPrefixHeader(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "prefixHeader");
+    if (this.prefixHeader == newValue) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        newValue,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPrefixHeader() prefixHeader} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for prefixHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withPrefixHeader(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.prefixHeader == value) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        value,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPrecompiledHeader() precompiledHeader} attribute.
+   * @param value The value for precompiledHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withPrecompiledHeader(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "precompiledHeader");
+    if (this.precompiledHeader == newValue) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        newValue,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPrecompiledHeader() precompiledHeader} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for precompiledHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withPrecompiledHeader(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.precompiledHeader == value) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        value,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getCompilerFlags() compilerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withCompilerFlags(StringWithMacros... elements) {
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        newValue,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getCompilerFlags() compilerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of compilerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+    if (this.compilerFlags == elements) return this;
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        newValue,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLangCompilerFlags() langCompilerFlags} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the langCompilerFlags map
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withLangCompilerFlags(Map<? extends CxxSource.Type, ? extends ImmutableList<StringWithMacros>> entries) {
+    if (this.langCompilerFlags == entries) return this;
+    ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> newValue = ImmutableMap.copyOf(entries);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        newValue,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformCompilerFlags() platformCompilerFlags} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformCompilerFlags
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withPlatformCompilerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> value) {
+    if (this.platformCompilerFlags == value) return this;
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> newValue = Objects.requireNonNull(value, "platformCompilerFlags");
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        newValue,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPreprocessorFlags() preprocessorFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withPreprocessorFlags(StringWithMacros... elements) {
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        newValue,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPreprocessorFlags() preprocessorFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of preprocessorFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withPreprocessorFlags(Iterable<? extends StringWithMacros> elements) {
+    if (this.preprocessorFlags == elements) return this;
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        newValue,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformPreprocessorFlags() platformPreprocessorFlags} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformPreprocessorFlags
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> value) {
+    if (this.platformPreprocessorFlags == value) return this;
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> newValue = Objects.requireNonNull(value, "platformPreprocessorFlags");
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        newValue,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLangPreprocessorFlags() langPreprocessorFlags} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the langPreprocessorFlags map
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withLangPreprocessorFlags(Map<? extends CxxSource.Type, ? extends ImmutableList<StringWithMacros>> entries) {
+    if (this.langPreprocessorFlags == entries) return this;
+    ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> newValue = ImmutableMap.copyOf(entries);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        newValue,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLinkerFlags() linkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withLinkerFlags(StringWithMacros... elements) {
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        newValue,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLinkerFlags() linkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of linkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+    if (this.linkerFlags == elements) return this;
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        newValue,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformLinkerFlags() platformLinkerFlags} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformLinkerFlags
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> value) {
+    if (this.platformLinkerFlags == value) return this;
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> newValue = Objects.requireNonNull(value, "platformLinkerFlags");
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        newValue,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformDeps() platformDeps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformDeps
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> value) {
+    if (this.platformDeps == value) return this;
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> newValue = Objects.requireNonNull(value, "platformDeps");
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        newValue,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getHeaderNamespace() headerNamespace} attribute.
+   * @param value The value for headerNamespace
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withHeaderNamespace(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "headerNamespace");
+    if (Objects.equals(this.headerNamespace, newValue)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        newValue,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getHeaderNamespace() headerNamespace} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for headerNamespace
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withHeaderNamespace(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.headerNamespace, value)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        value,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getCxxRuntimeType() cxxRuntimeType} attribute.
+   * @param value The value for cxxRuntimeType
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withCxxRuntimeType(Linker.CxxRuntimeType value) {
+    @Nullable Linker.CxxRuntimeType newValue = Objects.requireNonNull(value, "cxxRuntimeType");
+    if (this.cxxRuntimeType == newValue) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        newValue,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getCxxRuntimeType() cxxRuntimeType} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cxxRuntimeType
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withCxxRuntimeType(Optional<? extends Linker.CxxRuntimeType> optional) {
+    @Nullable Linker.CxxRuntimeType value = optional.orElse(null);
+    if (Objects.equals(this.cxxRuntimeType, value)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        value,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getIncludeDirs() includeDirs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withIncludeDirs(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        newValue,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getIncludeDirs() includeDirs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of includeDirs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withIncludeDirs(Iterable<String> elements) {
+    if (this.includeDirs == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        newValue,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getDefaults() defaults} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the defaults map
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withDefaults(Map<String, ? extends Flavor> entries) {
+    if (this.defaults == entries) return this;
+    ImmutableMap<String, Flavor> newValue = ImmutableMap.copyOf(entries);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getDefaultPlatform() defaultPlatform} attribute.
+   * @param value The value for defaultPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withDefaultPlatform(Flavor value) {
+    @Nullable Flavor newValue = Objects.requireNonNull(value, "defaultPlatform");
+    if (this.defaultPlatform == newValue) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getDefaultPlatform() defaultPlatform} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for defaultPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withDefaultPlatform(Optional<? extends Flavor> optional) {
+    @Nullable Flavor value = optional.orElse(null);
+    if (this.defaultPlatform == value) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        value,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getTests() tests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        newValue,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getTests() tests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of tests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withTests(Iterable<? extends BuildTarget> elements) {
+    if (this.tests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        newValue,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getFrameworks() frameworks}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withFrameworks(FrameworkPath... elements) {
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        Arrays.asList(elements));
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        newValue,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getFrameworks() frameworks}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of frameworks elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withFrameworks(Iterable<? extends FrameworkPath> elements) {
+    if (this.frameworks == elements) return this;
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        newValue,
+        this.libraries,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLibraries() libraries}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withLibraries(FrameworkPath... elements) {
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        Arrays.asList(elements));
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        newValue,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLibraries() libraries}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of libraries elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withLibraries(Iterable<? extends FrameworkPath> elements) {
+    if (this.libraries == elements) return this;
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        newValue,
+        this.swiftCompilerFlags,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSwiftCompilerFlags() swiftCompilerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withSwiftCompilerFlags(StringWithMacros... elements) {
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        newValue,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSwiftCompilerFlags() swiftCompilerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of swiftCompilerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withSwiftCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+    if (this.swiftCompilerFlags == elements) return this;
+    ImmutableList<StringWithMacros> newValue = ImmutableList.copyOf(elements);
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        newValue,
+        this.swiftVersion));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSwiftVersion() swiftVersion} attribute.
+   * @param value The value for swiftVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withSwiftVersion(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "swiftVersion");
+    if (Objects.equals(this.swiftVersion, newValue)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        newValue));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSwiftVersion() swiftVersion} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for swiftVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBinaryDescriptionArg withSwiftVersion(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.swiftVersion, value)) return this;
+    return validate(new AppleBinaryDescriptionArg(
+        this.infoPlist,
+        this.infoPlistSubstitutions,
+        this.configs,
+        this.headerPathPrefix,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.exportedDeps,
+        this.exportedPlatformDeps,
+        this.supportedPlatformsRegex,
+        this.soname,
+        this.forceStatic,
+        this.linkWhole,
+        this.canBeAsset,
+        this.preferredLinkage,
+        this.xcodePublicHeadersSymlinks,
+        this.xcodePrivateHeadersSymlinks,
+        this.extraXcodeSources,
+        this.extraXcodeFiles,
+        this.reexportAllHeaderDependencies,
+        this.bridgingHeader,
+        this.moduleName,
+        this.linkStyle,
+        this.thinLto,
+        this.srcs,
+        this.platformSrcs,
+        this.headers,
+        this.rawHeaders,
+        this.platformHeaders,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.compilerFlags,
+        this.langCompilerFlags,
+        this.platformCompilerFlags,
+        this.preprocessorFlags,
+        this.platformPreprocessorFlags,
+        this.langPreprocessorFlags,
+        this.linkerFlags,
+        this.platformLinkerFlags,
+        this.platformDeps,
+        this.headerNamespace,
+        this.cxxRuntimeType,
+        this.includeDirs,
+        this.defaults,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.defaultPlatform,
+        this.tests,
+        this.frameworks,
+        this.libraries,
+        this.swiftCompilerFlags,
+        value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleBinaryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleBinaryDescriptionArg
+        && equalTo((AppleBinaryDescriptionArg) another);
+  }
+
+  private boolean equalTo(AppleBinaryDescriptionArg another) {
+    return Objects.equals(infoPlist, another.infoPlist)
+        && infoPlistSubstitutions.equals(another.infoPlistSubstitutions)
+        && configs.equals(another.configs)
+        && Objects.equals(headerPathPrefix, another.headerPathPrefix)
+        && exportedHeaders.equals(another.exportedHeaders)
+        && exportedPlatformHeaders.equals(another.exportedPlatformHeaders)
+        && exportedPreprocessorFlags.equals(another.exportedPreprocessorFlags)
+        && exportedPlatformPreprocessorFlags.equals(another.exportedPlatformPreprocessorFlags)
+        && exportedLangPreprocessorFlags.equals(another.exportedLangPreprocessorFlags)
+        && exportedLinkerFlags.equals(another.exportedLinkerFlags)
+        && exportedPlatformLinkerFlags.equals(another.exportedPlatformLinkerFlags)
+        && exportedDeps.equals(another.exportedDeps)
+        && exportedPlatformDeps.equals(another.exportedPlatformDeps)
+        && Objects.equals(supportedPlatformsRegex, another.supportedPlatformsRegex)
+        && Objects.equals(soname, another.soname)
+        && Objects.equals(forceStatic, another.forceStatic)
+        && Objects.equals(linkWhole, another.linkWhole)
+        && Objects.equals(canBeAsset, another.canBeAsset)
+        && Objects.equals(preferredLinkage, another.preferredLinkage)
+        && Objects.equals(xcodePublicHeadersSymlinks, another.xcodePublicHeadersSymlinks)
+        && Objects.equals(xcodePrivateHeadersSymlinks, another.xcodePrivateHeadersSymlinks)
+        && extraXcodeSources.equals(another.extraXcodeSources)
+        && extraXcodeFiles.equals(another.extraXcodeFiles)
+        && reexportAllHeaderDependencies == another.reexportAllHeaderDependencies
+        && Objects.equals(bridgingHeader, another.bridgingHeader)
+        && Objects.equals(moduleName, another.moduleName)
+        && exportedCxxDeps.equals(another.exportedCxxDeps)
+        && cxxDeps.equals(another.cxxDeps)
+        && Objects.equals(linkStyle, another.linkStyle)
+        && thinLto == another.thinLto
+        && srcs.equals(another.srcs)
+        && platformSrcs.equals(another.platformSrcs)
+        && headers.equals(another.headers)
+        && rawHeaders.equals(another.rawHeaders)
+        && platformHeaders.equals(another.platformHeaders)
+        && Objects.equals(prefixHeader, another.prefixHeader)
+        && Objects.equals(precompiledHeader, another.precompiledHeader)
+        && compilerFlags.equals(another.compilerFlags)
+        && langCompilerFlags.equals(another.langCompilerFlags)
+        && platformCompilerFlags.equals(another.platformCompilerFlags)
+        && preprocessorFlags.equals(another.preprocessorFlags)
+        && platformPreprocessorFlags.equals(another.platformPreprocessorFlags)
+        && langPreprocessorFlags.equals(another.langPreprocessorFlags)
+        && linkerFlags.equals(another.linkerFlags)
+        && platformLinkerFlags.equals(another.platformLinkerFlags)
+        && platformDeps.equals(another.platformDeps)
+        && Objects.equals(headerNamespace, another.headerNamespace)
+        && Objects.equals(cxxRuntimeType, another.cxxRuntimeType)
+        && includeDirs.equals(another.includeDirs)
+        && defaults.equals(another.defaults)
+        && defaultFlavors.equals(another.defaultFlavors)
+        && privateCxxDeps.equals(another.privateCxxDeps)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && Objects.equals(defaultPlatform, another.defaultPlatform)
+        && tests.equals(another.tests)
+        && frameworks.equals(another.frameworks)
+        && libraries.equals(another.libraries)
+        && swiftCompilerFlags.equals(another.swiftCompilerFlags)
+        && Objects.equals(swiftVersion, another.swiftVersion);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code infoPlist}, {@code infoPlistSubstitutions}, {@code configs}, {@code headerPathPrefix}, {@code exportedHeaders}, {@code exportedPlatformHeaders}, {@code exportedPreprocessorFlags}, {@code exportedPlatformPreprocessorFlags}, {@code exportedLangPreprocessorFlags}, {@code exportedLinkerFlags}, {@code exportedPlatformLinkerFlags}, {@code exportedDeps}, {@code exportedPlatformDeps}, {@code supportedPlatformsRegex}, {@code soname}, {@code forceStatic}, {@code linkWhole}, {@code canBeAsset}, {@code preferredLinkage}, {@code xcodePublicHeadersSymlinks}, {@code xcodePrivateHeadersSymlinks}, {@code extraXcodeSources}, {@code extraXcodeFiles}, {@code reexportAllHeaderDependencies}, {@code bridgingHeader}, {@code moduleName}, {@code exportedCxxDeps}, {@code cxxDeps}, {@code linkStyle}, {@code thinLto}, {@code srcs}, {@code platformSrcs}, {@code headers}, {@code rawHeaders}, {@code platformHeaders}, {@code prefixHeader}, {@code precompiledHeader}, {@code compilerFlags}, {@code langCompilerFlags}, {@code platformCompilerFlags}, {@code preprocessorFlags}, {@code platformPreprocessorFlags}, {@code langPreprocessorFlags}, {@code linkerFlags}, {@code platformLinkerFlags}, {@code platformDeps}, {@code headerNamespace}, {@code cxxRuntimeType}, {@code includeDirs}, {@code defaults}, {@code defaultFlavors}, {@code privateCxxDeps}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code defaultPlatform}, {@code tests}, {@code frameworks}, {@code libraries}, {@code swiftCompilerFlags}, {@code swiftVersion}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(infoPlist);
+    h += (h << 5) + infoPlistSubstitutions.hashCode();
+    h += (h << 5) + configs.hashCode();
+    h += (h << 5) + Objects.hashCode(headerPathPrefix);
+    h += (h << 5) + exportedHeaders.hashCode();
+    h += (h << 5) + exportedPlatformHeaders.hashCode();
+    h += (h << 5) + exportedPreprocessorFlags.hashCode();
+    h += (h << 5) + exportedPlatformPreprocessorFlags.hashCode();
+    h += (h << 5) + exportedLangPreprocessorFlags.hashCode();
+    h += (h << 5) + exportedLinkerFlags.hashCode();
+    h += (h << 5) + exportedPlatformLinkerFlags.hashCode();
+    h += (h << 5) + exportedDeps.hashCode();
+    h += (h << 5) + exportedPlatformDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(supportedPlatformsRegex);
+    h += (h << 5) + Objects.hashCode(soname);
+    h += (h << 5) + Objects.hashCode(forceStatic);
+    h += (h << 5) + Objects.hashCode(linkWhole);
+    h += (h << 5) + Objects.hashCode(canBeAsset);
+    h += (h << 5) + Objects.hashCode(preferredLinkage);
+    h += (h << 5) + Objects.hashCode(xcodePublicHeadersSymlinks);
+    h += (h << 5) + Objects.hashCode(xcodePrivateHeadersSymlinks);
+    h += (h << 5) + extraXcodeSources.hashCode();
+    h += (h << 5) + extraXcodeFiles.hashCode();
+    h += (h << 5) + Booleans.hashCode(reexportAllHeaderDependencies);
+    h += (h << 5) + Objects.hashCode(bridgingHeader);
+    h += (h << 5) + Objects.hashCode(moduleName);
+    h += (h << 5) + exportedCxxDeps.hashCode();
+    h += (h << 5) + cxxDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(linkStyle);
+    h += (h << 5) + Booleans.hashCode(thinLto);
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + platformSrcs.hashCode();
+    h += (h << 5) + headers.hashCode();
+    h += (h << 5) + rawHeaders.hashCode();
+    h += (h << 5) + platformHeaders.hashCode();
+    h += (h << 5) + Objects.hashCode(prefixHeader);
+    h += (h << 5) + Objects.hashCode(precompiledHeader);
+    h += (h << 5) + compilerFlags.hashCode();
+    h += (h << 5) + langCompilerFlags.hashCode();
+    h += (h << 5) + platformCompilerFlags.hashCode();
+    h += (h << 5) + preprocessorFlags.hashCode();
+    h += (h << 5) + platformPreprocessorFlags.hashCode();
+    h += (h << 5) + langPreprocessorFlags.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    h += (h << 5) + platformLinkerFlags.hashCode();
+    h += (h << 5) + platformDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(headerNamespace);
+    h += (h << 5) + Objects.hashCode(cxxRuntimeType);
+    h += (h << 5) + includeDirs.hashCode();
+    h += (h << 5) + defaults.hashCode();
+    h += (h << 5) + defaultFlavors.hashCode();
+    h += (h << 5) + privateCxxDeps.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultPlatform);
+    h += (h << 5) + tests.hashCode();
+    h += (h << 5) + frameworks.hashCode();
+    h += (h << 5) + libraries.hashCode();
+    h += (h << 5) + swiftCompilerFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(swiftVersion);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleBinaryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleBinaryDescriptionArg")
+        .omitNullValues()
+        .add("infoPlist", infoPlist)
+        .add("infoPlistSubstitutions", infoPlistSubstitutions)
+        .add("configs", configs)
+        .add("headerPathPrefix", headerPathPrefix)
+        .add("exportedHeaders", exportedHeaders)
+        .add("exportedPlatformHeaders", exportedPlatformHeaders)
+        .add("exportedPreprocessorFlags", exportedPreprocessorFlags)
+        .add("exportedPlatformPreprocessorFlags", exportedPlatformPreprocessorFlags)
+        .add("exportedLangPreprocessorFlags", exportedLangPreprocessorFlags)
+        .add("exportedLinkerFlags", exportedLinkerFlags)
+        .add("exportedPlatformLinkerFlags", exportedPlatformLinkerFlags)
+        .add("exportedDeps", exportedDeps)
+        .add("exportedPlatformDeps", exportedPlatformDeps)
+        .add("supportedPlatformsRegex", supportedPlatformsRegex)
+        .add("soname", soname)
+        .add("forceStatic", forceStatic)
+        .add("linkWhole", linkWhole)
+        .add("canBeAsset", canBeAsset)
+        .add("preferredLinkage", preferredLinkage)
+        .add("xcodePublicHeadersSymlinks", xcodePublicHeadersSymlinks)
+        .add("xcodePrivateHeadersSymlinks", xcodePrivateHeadersSymlinks)
+        .add("extraXcodeSources", extraXcodeSources)
+        .add("extraXcodeFiles", extraXcodeFiles)
+        .add("reexportAllHeaderDependencies", reexportAllHeaderDependencies)
+        .add("bridgingHeader", bridgingHeader)
+        .add("moduleName", moduleName)
+        .add("exportedCxxDeps", exportedCxxDeps)
+        .add("cxxDeps", cxxDeps)
+        .add("linkStyle", linkStyle)
+        .add("thinLto", thinLto)
+        .add("srcs", srcs)
+        .add("platformSrcs", platformSrcs)
+        .add("headers", headers)
+        .add("rawHeaders", rawHeaders)
+        .add("platformHeaders", platformHeaders)
+        .add("prefixHeader", prefixHeader)
+        .add("precompiledHeader", precompiledHeader)
+        .add("compilerFlags", compilerFlags)
+        .add("langCompilerFlags", langCompilerFlags)
+        .add("platformCompilerFlags", platformCompilerFlags)
+        .add("preprocessorFlags", preprocessorFlags)
+        .add("platformPreprocessorFlags", platformPreprocessorFlags)
+        .add("langPreprocessorFlags", langPreprocessorFlags)
+        .add("linkerFlags", linkerFlags)
+        .add("platformLinkerFlags", platformLinkerFlags)
+        .add("platformDeps", platformDeps)
+        .add("headerNamespace", headerNamespace)
+        .add("cxxRuntimeType", cxxRuntimeType)
+        .add("includeDirs", includeDirs)
+        .add("defaults", defaults)
+        .add("defaultFlavors", defaultFlavors)
+        .add("privateCxxDeps", privateCxxDeps)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("defaultPlatform", defaultPlatform)
+        .add("tests", tests)
+        .add("frameworks", frameworks)
+        .add("libraries", libraries)
+        .add("swiftCompilerFlags", swiftCompilerFlags)
+        .add("swiftVersion", swiftVersion)
+        .toString();
+  }
+
+
+  private static AppleBinaryDescriptionArg validate(AppleBinaryDescriptionArg instance) {
+    instance.checkHeadersUsage();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AppleBinaryDescriptionArg instance
+   */
+  static AppleBinaryDescriptionArg copyOf(AppleBinaryDescription.AbstractAppleBinaryDescriptionArg instance) {
+    if (instance instanceof AppleBinaryDescriptionArg) {
+      return (AppleBinaryDescriptionArg) instance;
+    }
+    return AppleBinaryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AppleBinaryDescriptionArg AppleBinaryDescriptionArg}.
+   * @return A new AppleBinaryDescriptionArg builder
+   */
+  public static AppleBinaryDescriptionArg.Builder builder() {
+    return new AppleBinaryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleBinaryDescriptionArg AppleBinaryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_REEXPORT_ALL_HEADER_DEPENDENCIES = 0x1L;
+    private static final long OPT_BIT_THIN_LTO = 0x2L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable SourcePath infoPlist;
+    private ImmutableMap.Builder<String, String> infoPlistSubstitutions = ImmutableMap.builder();
+    private ImmutableSortedMap.Builder<String, ImmutableMap<String, String>> configs = ImmutableSortedMap.naturalOrder();
+    private @Nullable String headerPathPrefix;
+    private @Nullable SourceList exportedHeaders;
+    private @Nullable PatternMatchedCollection<SourceList> exportedPlatformHeaders;
+    private ImmutableList.Builder<StringWithMacros> exportedPreprocessorFlags = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformPreprocessorFlags;
+    private ImmutableMap.Builder<CxxSource.Type, ImmutableList<StringWithMacros>> exportedLangPreprocessorFlags = ImmutableMap.builder();
+    private ImmutableList.Builder<StringWithMacros> exportedLinkerFlags = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformLinkerFlags;
+    private ImmutableSortedSet.Builder<BuildTarget> exportedDeps = ImmutableSortedSet.naturalOrder();
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> exportedPlatformDeps;
+    private @Nullable Pattern supportedPlatformsRegex;
+    private @Nullable String soname;
+    private @Nullable Boolean forceStatic;
+    private @Nullable Boolean linkWhole;
+    private @Nullable Boolean canBeAsset;
+    private @Nullable NativeLinkable.Linkage preferredLinkage;
+    private @Nullable Boolean xcodePublicHeadersSymlinks;
+    private @Nullable Boolean xcodePrivateHeadersSymlinks;
+    private ImmutableList.Builder<SourcePath> extraXcodeSources = ImmutableList.builder();
+    private ImmutableList.Builder<SourcePath> extraXcodeFiles = ImmutableList.builder();
+    private boolean reexportAllHeaderDependencies;
+    private @Nullable SourcePath bridgingHeader;
+    private @Nullable String moduleName;
+    private @Nullable Linker.LinkableDepType linkStyle;
+    private boolean thinLto;
+    private ImmutableSortedSet.Builder<SourceWithFlags> srcs = ImmutableSortedSet.naturalOrder();
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> platformSrcs;
+    private @Nullable SourceList headers;
+    private @Nullable ImmutableSortedSet<SourcePath> rawHeaders;
+    private @Nullable PatternMatchedCollection<SourceList> platformHeaders;
+    private @Nullable SourcePath prefixHeader;
+    private @Nullable SourcePath precompiledHeader;
+    private ImmutableList.Builder<StringWithMacros> compilerFlags = ImmutableList.builder();
+    private ImmutableMap.Builder<CxxSource.Type, ImmutableList<StringWithMacros>> langCompilerFlags = ImmutableMap.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<StringWithMacros>> platformCompilerFlags;
+    private ImmutableList.Builder<StringWithMacros> preprocessorFlags = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<StringWithMacros>> platformPreprocessorFlags;
+    private ImmutableMap.Builder<CxxSource.Type, ImmutableList<StringWithMacros>> langPreprocessorFlags = ImmutableMap.builder();
+    private ImmutableList.Builder<StringWithMacros> linkerFlags = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<StringWithMacros>> platformLinkerFlags;
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private @Nullable String headerNamespace;
+    private @Nullable Linker.CxxRuntimeType cxxRuntimeType;
+    private ImmutableList.Builder<String> includeDirs = ImmutableList.builder();
+    private ImmutableMap.Builder<String, Flavor> defaults = ImmutableMap.builder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private @Nullable Flavor defaultPlatform;
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<FrameworkPath> frameworks = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<FrameworkPath> libraries = ImmutableSortedSet.naturalOrder();
+    private ImmutableList.Builder<StringWithMacros> swiftCompilerFlags = ImmutableList.builder();
+    private @Nullable String swiftVersion;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.CxxLibraryDescription.CommonArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxLibraryDescription.CommonArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDefaultPlatform} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDefaultPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleBinaryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AppleBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleBinaryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AppleBinaryDescription.AbstractAppleBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.CxxConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.swift.SwiftCommonArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(SwiftCommonArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.toolchain.HasSystemFrameworkAndLibraries} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasSystemFrameworkAndLibraries instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.apple.AppleNativeTargetDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AppleNativeTargetDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.LinkableCxxConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(LinkableCxxConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof CxxLibraryDescription.CommonArg) {
+        CxxLibraryDescription.CommonArg instance = (CxxLibraryDescription.CommonArg) object;
+        putAllExportedLangPreprocessorFlags(instance.getExportedLangPreprocessorFlags());
+        setExportedPlatformDeps(instance.getExportedPlatformDeps());
+        setExportedPlatformPreprocessorFlags(instance.getExportedPlatformPreprocessorFlags());
+        Optional<Boolean> linkWholeOptional = instance.getLinkWhole();
+        if (linkWholeOptional.isPresent()) {
+          setLinkWhole(linkWholeOptional);
+        }
+        setReexportAllHeaderDependencies(instance.isReexportAllHeaderDependencies());
+        setExportedHeaders(instance.getExportedHeaders());
+        addAllExportedLinkerFlags(instance.getExportedLinkerFlags());
+        Optional<String> moduleNameOptional = instance.getModuleName();
+        if (moduleNameOptional.isPresent()) {
+          setModuleName(moduleNameOptional);
+        }
+        setExportedPlatformHeaders(instance.getExportedPlatformHeaders());
+        Optional<Boolean> canBeAssetOptional = instance.getCanBeAsset();
+        if (canBeAssetOptional.isPresent()) {
+          setCanBeAsset(canBeAssetOptional);
+        }
+        setExportedPlatformLinkerFlags(instance.getExportedPlatformLinkerFlags());
+        Optional<String> sonameOptional = instance.getSoname();
+        if (sonameOptional.isPresent()) {
+          setSoname(sonameOptional);
+        }
+        Optional<Boolean> xcodePrivateHeadersSymlinksOptional = instance.getXcodePrivateHeadersSymlinks();
+        if (xcodePrivateHeadersSymlinksOptional.isPresent()) {
+          setXcodePrivateHeadersSymlinks(xcodePrivateHeadersSymlinksOptional);
+        }
+        Optional<Pattern> supportedPlatformsRegexOptional = instance.getSupportedPlatformsRegex();
+        if (supportedPlatformsRegexOptional.isPresent()) {
+          setSupportedPlatformsRegex(supportedPlatformsRegexOptional);
+        }
+        addAllExtraXcodeFiles(instance.getExtraXcodeFiles());
+        Optional<Boolean> forceStaticOptional = instance.getForceStatic();
+        if (forceStaticOptional.isPresent()) {
+          setForceStatic(forceStaticOptional);
+        }
+        Optional<Boolean> xcodePublicHeadersSymlinksOptional = instance.getXcodePublicHeadersSymlinks();
+        if (xcodePublicHeadersSymlinksOptional.isPresent()) {
+          setXcodePublicHeadersSymlinks(xcodePublicHeadersSymlinksOptional);
+        }
+        addAllExtraXcodeSources(instance.getExtraXcodeSources());
+        addAllExportedDeps(instance.getExportedDeps());
+        Optional<NativeLinkable.Linkage> preferredLinkageOptional = instance.getPreferredLinkage();
+        if (preferredLinkageOptional.isPresent()) {
+          setPreferredLinkage(preferredLinkageOptional);
+        }
+        addAllExportedPreprocessorFlags(instance.getExportedPreprocessorFlags());
+        Optional<SourcePath> bridgingHeaderOptional = instance.getBridgingHeader();
+        if (bridgingHeaderOptional.isPresent()) {
+          setBridgingHeader(bridgingHeaderOptional);
+        }
+      }
+      if (object instanceof HasDefaultPlatform) {
+        HasDefaultPlatform instance = (HasDefaultPlatform) object;
+        Optional<Flavor> defaultPlatformOptional = instance.getDefaultPlatform();
+        if (defaultPlatformOptional.isPresent()) {
+          setDefaultPlatform(defaultPlatformOptional);
+        }
+      }
+      if (object instanceof AppleBinaryDescription.AbstractAppleBinaryDescriptionArg) {
+        AppleBinaryDescription.AbstractAppleBinaryDescriptionArg instance = (AppleBinaryDescription.AbstractAppleBinaryDescriptionArg) object;
+        Optional<SourcePath> infoPlistOptional = instance.getInfoPlist();
+        if (infoPlistOptional.isPresent()) {
+          setInfoPlist(infoPlistOptional);
+        }
+        putAllInfoPlistSubstitutions(instance.getInfoPlistSubstitutions());
+      }
+      if (object instanceof CxxConstructorArg) {
+        CxxConstructorArg instance = (CxxConstructorArg) object;
+        setPlatformPreprocessorFlags(instance.getPlatformPreprocessorFlags());
+        setHeaders(instance.getHeaders());
+        addAllCompilerFlags(instance.getCompilerFlags());
+        setPlatformSrcs(instance.getPlatformSrcs());
+        setPlatformDeps(instance.getPlatformDeps());
+        addAllLinkerFlags(instance.getLinkerFlags());
+        setPlatformCompilerFlags(instance.getPlatformCompilerFlags());
+        addAllPreprocessorFlags(instance.getPreprocessorFlags());
+        setRawHeaders(instance.getRawHeaders());
+        Optional<SourcePath> prefixHeaderOptional = instance.getPrefixHeader();
+        if (prefixHeaderOptional.isPresent()) {
+          setPrefixHeader(prefixHeaderOptional);
+        }
+        addAllIncludeDirs(instance.getIncludeDirs());
+        Optional<Linker.CxxRuntimeType> cxxRuntimeTypeOptional = instance.getCxxRuntimeType();
+        if (cxxRuntimeTypeOptional.isPresent()) {
+          setCxxRuntimeType(cxxRuntimeTypeOptional);
+        }
+        putAllDefaults(instance.getDefaults());
+        setPlatformHeaders(instance.getPlatformHeaders());
+        putAllLangPreprocessorFlags(instance.getLangPreprocessorFlags());
+        Optional<SourcePath> precompiledHeaderOptional = instance.getPrecompiledHeader();
+        if (precompiledHeaderOptional.isPresent()) {
+          setPrecompiledHeader(precompiledHeaderOptional);
+        }
+        putAllLangCompilerFlags(instance.getLangCompilerFlags());
+        addAllSrcs(instance.getSrcs());
+        Optional<String> headerNamespaceOptional = instance.getHeaderNamespace();
+        if (headerNamespaceOptional.isPresent()) {
+          setHeaderNamespace(headerNamespaceOptional);
+        }
+        setPlatformLinkerFlags(instance.getPlatformLinkerFlags());
+      }
+      if (object instanceof SwiftCommonArg) {
+        SwiftCommonArg instance = (SwiftCommonArg) object;
+        addAllSwiftCompilerFlags(instance.getSwiftCompilerFlags());
+        Optional<String> swiftVersionOptional = instance.getSwiftVersion();
+        if (swiftVersionOptional.isPresent()) {
+          setSwiftVersion(swiftVersionOptional);
+        }
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof HasSystemFrameworkAndLibraries) {
+        HasSystemFrameworkAndLibraries instance = (HasSystemFrameworkAndLibraries) object;
+        addAllLibraries(instance.getLibraries());
+        addAllFrameworks(instance.getFrameworks());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof AppleNativeTargetDescriptionArg) {
+        AppleNativeTargetDescriptionArg instance = (AppleNativeTargetDescriptionArg) object;
+        Optional<String> headerPathPrefixOptional = instance.getHeaderPathPrefix();
+        if (headerPathPrefixOptional.isPresent()) {
+          setHeaderPathPrefix(headerPathPrefixOptional);
+        }
+        putAllConfigs(instance.getConfigs());
+      }
+      if (object instanceof LinkableCxxConstructorArg) {
+        LinkableCxxConstructorArg instance = (LinkableCxxConstructorArg) object;
+        Optional<Linker.LinkableDepType> linkStyleOptional = instance.getLinkStyle();
+        if (linkStyleOptional.isPresent()) {
+          setLinkStyle(linkStyleOptional);
+        }
+        setThinLto(instance.getThinLto());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getInfoPlist() infoPlist} to infoPlist.
+     * @param infoPlist The value for infoPlist
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setInfoPlist(SourcePath infoPlist) {
+      this.infoPlist = Objects.requireNonNull(infoPlist, "infoPlist");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getInfoPlist() infoPlist} to infoPlist.
+     * @param infoPlist The value for infoPlist
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInfoPlist(Optional<? extends SourcePath> infoPlist) {
+      this.infoPlist = infoPlist.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map.
+     * @param key The key in the infoPlistSubstitutions map
+     * @param value The associated value in the infoPlistSubstitutions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putInfoPlistSubstitutions(String key, String value) {
+      this.infoPlistSubstitutions.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putInfoPlistSubstitutions(Map.Entry<String, ? extends String> entry) {
+      this.infoPlistSubstitutions.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map. Nulls are not permitted
+     * @param infoPlistSubstitutions The entries that will be added to the infoPlistSubstitutions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInfoPlistSubstitutions(Map<String, ? extends String> infoPlistSubstitutions) {
+      this.infoPlistSubstitutions = ImmutableMap.builder();
+      return putAllInfoPlistSubstitutions(infoPlistSubstitutions);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map. Nulls are not permitted
+     * @param infoPlistSubstitutions The entries that will be added to the infoPlistSubstitutions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllInfoPlistSubstitutions(Map<String, ? extends String> infoPlistSubstitutions) {
+      this.infoPlistSubstitutions.putAll(infoPlistSubstitutions);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getConfigs() configs} map.
+     * @param key The key in the configs map
+     * @param value The associated value in the configs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putConfigs(String key, ImmutableMap<String, String> value) {
+      this.configs.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getConfigs() configs} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putConfigs(Map.Entry<String, ? extends ImmutableMap<String, String>> entry) {
+      this.configs.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getConfigs() configs} map. Nulls are not permitted
+     * @param configs The entries that will be added to the configs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setConfigs(Map<String, ? extends ImmutableMap<String, String>> configs) {
+      this.configs = ImmutableSortedMap.naturalOrder();
+      return putAllConfigs(configs);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getConfigs() configs} map. Nulls are not permitted
+     * @param configs The entries that will be added to the configs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllConfigs(Map<String, ? extends ImmutableMap<String, String>> configs) {
+      this.configs.putAll(configs);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getHeaderPathPrefix() headerPathPrefix} to headerPathPrefix.
+     * @param headerPathPrefix The value for headerPathPrefix
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setHeaderPathPrefix(String headerPathPrefix) {
+      this.headerPathPrefix = Objects.requireNonNull(headerPathPrefix, "headerPathPrefix");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getHeaderPathPrefix() headerPathPrefix} to headerPathPrefix.
+     * @param headerPathPrefix The value for headerPathPrefix
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHeaderPathPrefix(Optional<String> headerPathPrefix) {
+      this.headerPathPrefix = headerPathPrefix.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedHeaders() exportedHeaders} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedHeaders() exportedHeaders}.</em>
+     * @param exportedHeaders The value for exportedHeaders 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedHeaders(SourceList exportedHeaders) {
+      this.exportedHeaders = Objects.requireNonNull(exportedHeaders, "exportedHeaders");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPlatformHeaders() exportedPlatformHeaders} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPlatformHeaders() exportedPlatformHeaders}.</em>
+     * @param exportedPlatformHeaders The value for exportedPlatformHeaders 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedPlatformHeaders(PatternMatchedCollection<SourceList> exportedPlatformHeaders) {
+      this.exportedPlatformHeaders = Objects.requireNonNull(exportedPlatformHeaders, "exportedPlatformHeaders");
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param element A exportedPreprocessorFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedPreprocessorFlags(StringWithMacros element) {
+      this.exportedPreprocessorFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An array of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedPreprocessorFlags(StringWithMacros... elements) {
+      this.exportedPreprocessorFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An iterable of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedPreprocessorFlags(Iterable<? extends StringWithMacros> elements) {
+      this.exportedPreprocessorFlags = ImmutableList.builder();
+      return addAllExportedPreprocessorFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An iterable of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExportedPreprocessorFlags(Iterable<? extends StringWithMacros> elements) {
+      this.exportedPreprocessorFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPlatformPreprocessorFlags() exportedPlatformPreprocessorFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPlatformPreprocessorFlags() exportedPlatformPreprocessorFlags}.</em>
+     * @param exportedPlatformPreprocessorFlags The value for exportedPlatformPreprocessorFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformPreprocessorFlags) {
+      this.exportedPlatformPreprocessorFlags = Objects.requireNonNull(exportedPlatformPreprocessorFlags, "exportedPlatformPreprocessorFlags");
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map.
+     * @param key The key in the exportedLangPreprocessorFlags map
+     * @param value The associated value in the exportedLangPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putExportedLangPreprocessorFlags(CxxSource.Type key, ImmutableList<StringWithMacros> value) {
+      this.exportedLangPreprocessorFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putExportedLangPreprocessorFlags(Map.Entry<? extends CxxSource.Type, ? extends ImmutableList<StringWithMacros>> entry) {
+      this.exportedLangPreprocessorFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map. Nulls are not permitted
+     * @param exportedLangPreprocessorFlags The entries that will be added to the exportedLangPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedLangPreprocessorFlags(Map<? extends CxxSource.Type, ? extends ImmutableList<StringWithMacros>> exportedLangPreprocessorFlags) {
+      this.exportedLangPreprocessorFlags = ImmutableMap.builder();
+      return putAllExportedLangPreprocessorFlags(exportedLangPreprocessorFlags);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map. Nulls are not permitted
+     * @param exportedLangPreprocessorFlags The entries that will be added to the exportedLangPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllExportedLangPreprocessorFlags(Map<? extends CxxSource.Type, ? extends ImmutableList<StringWithMacros>> exportedLangPreprocessorFlags) {
+      this.exportedLangPreprocessorFlags.putAll(exportedLangPreprocessorFlags);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param element A exportedLinkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedLinkerFlags(StringWithMacros element) {
+      this.exportedLinkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An array of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedLinkerFlags(StringWithMacros... elements) {
+      this.exportedLinkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An iterable of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.exportedLinkerFlags = ImmutableList.builder();
+      return addAllExportedLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An iterable of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExportedLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.exportedLinkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPlatformLinkerFlags() exportedPlatformLinkerFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPlatformLinkerFlags() exportedPlatformLinkerFlags}.</em>
+     * @param exportedPlatformLinkerFlags The value for exportedPlatformLinkerFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformLinkerFlags) {
+      this.exportedPlatformLinkerFlags = Objects.requireNonNull(exportedPlatformLinkerFlags, "exportedPlatformLinkerFlags");
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param element A exportedDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedDeps(BuildTarget element) {
+      this.exportedDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An array of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedDeps(BuildTarget... elements) {
+      this.exportedDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps = ImmutableSortedSet.naturalOrder();
+      return addAllExportedDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPlatformDeps() exportedPlatformDeps} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExportedPlatformDeps() exportedPlatformDeps}.</em>
+     * @param exportedPlatformDeps The value for exportedPlatformDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> exportedPlatformDeps) {
+      this.exportedPlatformDeps = Objects.requireNonNull(exportedPlatformDeps, "exportedPlatformDeps");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} to supportedPlatformsRegex.
+     * @param supportedPlatformsRegex The value for supportedPlatformsRegex
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSupportedPlatformsRegex(Pattern supportedPlatformsRegex) {
+      this.supportedPlatformsRegex = Objects.requireNonNull(supportedPlatformsRegex, "supportedPlatformsRegex");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} to supportedPlatformsRegex.
+     * @param supportedPlatformsRegex The value for supportedPlatformsRegex
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSupportedPlatformsRegex(Optional<? extends Pattern> supportedPlatformsRegex) {
+      this.supportedPlatformsRegex = supportedPlatformsRegex.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSoname() soname} to soname.
+     * @param soname The value for soname
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSoname(String soname) {
+      this.soname = Objects.requireNonNull(soname, "soname");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSoname() soname} to soname.
+     * @param soname The value for soname
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSoname(Optional<String> soname) {
+      this.soname = soname.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getForceStatic() forceStatic} to forceStatic.
+     * @param forceStatic The value for forceStatic
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setForceStatic(boolean forceStatic) {
+      this.forceStatic = forceStatic;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getForceStatic() forceStatic} to forceStatic.
+     * @param forceStatic The value for forceStatic
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setForceStatic(Optional<Boolean> forceStatic) {
+      this.forceStatic = forceStatic.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLinkWhole() linkWhole} to linkWhole.
+     * @param linkWhole The value for linkWhole
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLinkWhole(boolean linkWhole) {
+      this.linkWhole = linkWhole;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLinkWhole() linkWhole} to linkWhole.
+     * @param linkWhole The value for linkWhole
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkWhole(Optional<Boolean> linkWhole) {
+      this.linkWhole = linkWhole.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getCanBeAsset() canBeAsset} to canBeAsset.
+     * @param canBeAsset The value for canBeAsset
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCanBeAsset(boolean canBeAsset) {
+      this.canBeAsset = canBeAsset;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getCanBeAsset() canBeAsset} to canBeAsset.
+     * @param canBeAsset The value for canBeAsset
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCanBeAsset(Optional<Boolean> canBeAsset) {
+      this.canBeAsset = canBeAsset.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPreferredLinkage() preferredLinkage} to preferredLinkage.
+     * @param preferredLinkage The value for preferredLinkage
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPreferredLinkage(NativeLinkable.Linkage preferredLinkage) {
+      this.preferredLinkage = Objects.requireNonNull(preferredLinkage, "preferredLinkage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPreferredLinkage() preferredLinkage} to preferredLinkage.
+     * @param preferredLinkage The value for preferredLinkage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPreferredLinkage(Optional<? extends NativeLinkable.Linkage> preferredLinkage) {
+      this.preferredLinkage = preferredLinkage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getXcodePublicHeadersSymlinks() xcodePublicHeadersSymlinks} to xcodePublicHeadersSymlinks.
+     * @param xcodePublicHeadersSymlinks The value for xcodePublicHeadersSymlinks
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setXcodePublicHeadersSymlinks(boolean xcodePublicHeadersSymlinks) {
+      this.xcodePublicHeadersSymlinks = xcodePublicHeadersSymlinks;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getXcodePublicHeadersSymlinks() xcodePublicHeadersSymlinks} to xcodePublicHeadersSymlinks.
+     * @param xcodePublicHeadersSymlinks The value for xcodePublicHeadersSymlinks
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setXcodePublicHeadersSymlinks(Optional<Boolean> xcodePublicHeadersSymlinks) {
+      this.xcodePublicHeadersSymlinks = xcodePublicHeadersSymlinks.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getXcodePrivateHeadersSymlinks() xcodePrivateHeadersSymlinks} to xcodePrivateHeadersSymlinks.
+     * @param xcodePrivateHeadersSymlinks The value for xcodePrivateHeadersSymlinks
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setXcodePrivateHeadersSymlinks(boolean xcodePrivateHeadersSymlinks) {
+      this.xcodePrivateHeadersSymlinks = xcodePrivateHeadersSymlinks;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getXcodePrivateHeadersSymlinks() xcodePrivateHeadersSymlinks} to xcodePrivateHeadersSymlinks.
+     * @param xcodePrivateHeadersSymlinks The value for xcodePrivateHeadersSymlinks
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setXcodePrivateHeadersSymlinks(Optional<Boolean> xcodePrivateHeadersSymlinks) {
+      this.xcodePrivateHeadersSymlinks = xcodePrivateHeadersSymlinks.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExtraXcodeSources() extraXcodeSources} list.
+     * @param element A extraXcodeSources element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraXcodeSources(SourcePath element) {
+      this.extraXcodeSources.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExtraXcodeSources() extraXcodeSources} list.
+     * @param elements An array of extraXcodeSources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraXcodeSources(SourcePath... elements) {
+      this.extraXcodeSources.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExtraXcodeSources() extraXcodeSources} list.
+     * @param elements An iterable of extraXcodeSources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtraXcodeSources(Iterable<? extends SourcePath> elements) {
+      this.extraXcodeSources = ImmutableList.builder();
+      return addAllExtraXcodeSources(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExtraXcodeSources() extraXcodeSources} list.
+     * @param elements An iterable of extraXcodeSources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExtraXcodeSources(Iterable<? extends SourcePath> elements) {
+      this.extraXcodeSources.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExtraXcodeFiles() extraXcodeFiles} list.
+     * @param element A extraXcodeFiles element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraXcodeFiles(SourcePath element) {
+      this.extraXcodeFiles.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExtraXcodeFiles() extraXcodeFiles} list.
+     * @param elements An array of extraXcodeFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraXcodeFiles(SourcePath... elements) {
+      this.extraXcodeFiles.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExtraXcodeFiles() extraXcodeFiles} list.
+     * @param elements An iterable of extraXcodeFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtraXcodeFiles(Iterable<? extends SourcePath> elements) {
+      this.extraXcodeFiles = ImmutableList.builder();
+      return addAllExtraXcodeFiles(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getExtraXcodeFiles() extraXcodeFiles} list.
+     * @param elements An iterable of extraXcodeFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExtraXcodeFiles(Iterable<? extends SourcePath> elements) {
+      this.extraXcodeFiles.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#isReexportAllHeaderDependencies() reexportAllHeaderDependencies} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#isReexportAllHeaderDependencies() reexportAllHeaderDependencies}.</em>
+     * @param reexportAllHeaderDependencies The value for reexportAllHeaderDependencies 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setReexportAllHeaderDependencies(boolean reexportAllHeaderDependencies) {
+      this.reexportAllHeaderDependencies = reexportAllHeaderDependencies;
+      optBits |= OPT_BIT_REEXPORT_ALL_HEADER_DEPENDENCIES;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getBridgingHeader() bridgingHeader} to bridgingHeader.
+     * @param bridgingHeader The value for bridgingHeader
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBridgingHeader(SourcePath bridgingHeader) {
+      this.bridgingHeader = Objects.requireNonNull(bridgingHeader, "bridgingHeader");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getBridgingHeader() bridgingHeader} to bridgingHeader.
+     * @param bridgingHeader The value for bridgingHeader
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBridgingHeader(Optional<? extends SourcePath> bridgingHeader) {
+      this.bridgingHeader = bridgingHeader.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getModuleName() moduleName} to moduleName.
+     * @param moduleName The value for moduleName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setModuleName(String moduleName) {
+      this.moduleName = Objects.requireNonNull(moduleName, "moduleName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getModuleName() moduleName} to moduleName.
+     * @param moduleName The value for moduleName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setModuleName(Optional<String> moduleName) {
+      this.moduleName = moduleName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLinkStyle() linkStyle} to linkStyle.
+     * @param linkStyle The value for linkStyle
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLinkStyle(Linker.LinkableDepType linkStyle) {
+      this.linkStyle = Objects.requireNonNull(linkStyle, "linkStyle");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLinkStyle() linkStyle} to linkStyle.
+     * @param linkStyle The value for linkStyle
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkStyle(Optional<? extends Linker.LinkableDepType> linkStyle) {
+      this.linkStyle = linkStyle.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getThinLto() thinLto} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getThinLto() thinLto}.</em>
+     * @param thinLto The value for thinLto 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setThinLto(boolean thinLto) {
+      this.thinLto = thinLto;
+      optBits |= OPT_BIT_THIN_LTO;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourceWithFlags element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourceWithFlags... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends SourceWithFlags> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends SourceWithFlags> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformSrcs() platformSrcs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformSrcs() platformSrcs}.</em>
+     * @param platformSrcs The value for platformSrcs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformSrcs(PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> platformSrcs) {
+      this.platformSrcs = Objects.requireNonNull(platformSrcs, "platformSrcs");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getHeaders() headers} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getHeaders() headers}.</em>
+     * @param headers The value for headers 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHeaders(SourceList headers) {
+      this.headers = Objects.requireNonNull(headers, "headers");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getRawHeaders() rawHeaders} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getRawHeaders() rawHeaders}.</em>
+     * @param rawHeaders The value for rawHeaders 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRawHeaders(ImmutableSortedSet<SourcePath> rawHeaders) {
+      this.rawHeaders = Objects.requireNonNull(rawHeaders, "rawHeaders");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformHeaders() platformHeaders} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformHeaders() platformHeaders}.</em>
+     * @param platformHeaders The value for platformHeaders 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformHeaders(PatternMatchedCollection<SourceList> platformHeaders) {
+      this.platformHeaders = Objects.requireNonNull(platformHeaders, "platformHeaders");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPrefixHeader() prefixHeader} to prefixHeader.
+     * @param prefixHeader The value for prefixHeader
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPrefixHeader(SourcePath prefixHeader) {
+      this.prefixHeader = Objects.requireNonNull(prefixHeader, "prefixHeader");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPrefixHeader() prefixHeader} to prefixHeader.
+     * @param prefixHeader The value for prefixHeader
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPrefixHeader(Optional<? extends SourcePath> prefixHeader) {
+      this.prefixHeader = prefixHeader.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPrecompiledHeader() precompiledHeader} to precompiledHeader.
+     * @param precompiledHeader The value for precompiledHeader
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPrecompiledHeader(SourcePath precompiledHeader) {
+      this.precompiledHeader = Objects.requireNonNull(precompiledHeader, "precompiledHeader");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPrecompiledHeader() precompiledHeader} to precompiledHeader.
+     * @param precompiledHeader The value for precompiledHeader
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPrecompiledHeader(Optional<? extends SourcePath> precompiledHeader) {
+      this.precompiledHeader = precompiledHeader.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param element A compilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(StringWithMacros element) {
+      this.compilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An array of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(StringWithMacros... elements) {
+      this.compilerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.compilerFlags = ImmutableList.builder();
+      return addAllCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.compilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLangCompilerFlags() langCompilerFlags} map.
+     * @param key The key in the langCompilerFlags map
+     * @param value The associated value in the langCompilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putLangCompilerFlags(CxxSource.Type key, ImmutableList<StringWithMacros> value) {
+      this.langCompilerFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLangCompilerFlags() langCompilerFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putLangCompilerFlags(Map.Entry<? extends CxxSource.Type, ? extends ImmutableList<StringWithMacros>> entry) {
+      this.langCompilerFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLangCompilerFlags() langCompilerFlags} map. Nulls are not permitted
+     * @param langCompilerFlags The entries that will be added to the langCompilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLangCompilerFlags(Map<? extends CxxSource.Type, ? extends ImmutableList<StringWithMacros>> langCompilerFlags) {
+      this.langCompilerFlags = ImmutableMap.builder();
+      return putAllLangCompilerFlags(langCompilerFlags);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLangCompilerFlags() langCompilerFlags} map. Nulls are not permitted
+     * @param langCompilerFlags The entries that will be added to the langCompilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllLangCompilerFlags(Map<? extends CxxSource.Type, ? extends ImmutableList<StringWithMacros>> langCompilerFlags) {
+      this.langCompilerFlags.putAll(langCompilerFlags);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformCompilerFlags() platformCompilerFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformCompilerFlags() platformCompilerFlags}.</em>
+     * @param platformCompilerFlags The value for platformCompilerFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformCompilerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformCompilerFlags) {
+      this.platformCompilerFlags = Objects.requireNonNull(platformCompilerFlags, "platformCompilerFlags");
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPreprocessorFlags() preprocessorFlags} list.
+     * @param element A preprocessorFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPreprocessorFlags(StringWithMacros element) {
+      this.preprocessorFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPreprocessorFlags() preprocessorFlags} list.
+     * @param elements An array of preprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPreprocessorFlags(StringWithMacros... elements) {
+      this.preprocessorFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPreprocessorFlags() preprocessorFlags} list.
+     * @param elements An iterable of preprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPreprocessorFlags(Iterable<? extends StringWithMacros> elements) {
+      this.preprocessorFlags = ImmutableList.builder();
+      return addAllPreprocessorFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPreprocessorFlags() preprocessorFlags} list.
+     * @param elements An iterable of preprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPreprocessorFlags(Iterable<? extends StringWithMacros> elements) {
+      this.preprocessorFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformPreprocessorFlags() platformPreprocessorFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformPreprocessorFlags() platformPreprocessorFlags}.</em>
+     * @param platformPreprocessorFlags The value for platformPreprocessorFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformPreprocessorFlags) {
+      this.platformPreprocessorFlags = Objects.requireNonNull(platformPreprocessorFlags, "platformPreprocessorFlags");
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLangPreprocessorFlags() langPreprocessorFlags} map.
+     * @param key The key in the langPreprocessorFlags map
+     * @param value The associated value in the langPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putLangPreprocessorFlags(CxxSource.Type key, ImmutableList<StringWithMacros> value) {
+      this.langPreprocessorFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLangPreprocessorFlags() langPreprocessorFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putLangPreprocessorFlags(Map.Entry<? extends CxxSource.Type, ? extends ImmutableList<StringWithMacros>> entry) {
+      this.langPreprocessorFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLangPreprocessorFlags() langPreprocessorFlags} map. Nulls are not permitted
+     * @param langPreprocessorFlags The entries that will be added to the langPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLangPreprocessorFlags(Map<? extends CxxSource.Type, ? extends ImmutableList<StringWithMacros>> langPreprocessorFlags) {
+      this.langPreprocessorFlags = ImmutableMap.builder();
+      return putAllLangPreprocessorFlags(langPreprocessorFlags);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLangPreprocessorFlags() langPreprocessorFlags} map. Nulls are not permitted
+     * @param langPreprocessorFlags The entries that will be added to the langPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllLangPreprocessorFlags(Map<? extends CxxSource.Type, ? extends ImmutableList<StringWithMacros>> langPreprocessorFlags) {
+      this.langPreprocessorFlags.putAll(langPreprocessorFlags);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(StringWithMacros element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(StringWithMacros... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformLinkerFlags() platformLinkerFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformLinkerFlags() platformLinkerFlags}.</em>
+     * @param platformLinkerFlags The value for platformLinkerFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformLinkerFlags) {
+      this.platformLinkerFlags = Objects.requireNonNull(platformLinkerFlags, "platformLinkerFlags");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformDeps() platformDeps} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getPlatformDeps() platformDeps}.</em>
+     * @param platformDeps The value for platformDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = Objects.requireNonNull(platformDeps, "platformDeps");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getHeaderNamespace() headerNamespace} to headerNamespace.
+     * @param headerNamespace The value for headerNamespace
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setHeaderNamespace(String headerNamespace) {
+      this.headerNamespace = Objects.requireNonNull(headerNamespace, "headerNamespace");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getHeaderNamespace() headerNamespace} to headerNamespace.
+     * @param headerNamespace The value for headerNamespace
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHeaderNamespace(Optional<String> headerNamespace) {
+      this.headerNamespace = headerNamespace.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getCxxRuntimeType() cxxRuntimeType} to cxxRuntimeType.
+     * @param cxxRuntimeType The value for cxxRuntimeType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxRuntimeType(Linker.CxxRuntimeType cxxRuntimeType) {
+      this.cxxRuntimeType = Objects.requireNonNull(cxxRuntimeType, "cxxRuntimeType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getCxxRuntimeType() cxxRuntimeType} to cxxRuntimeType.
+     * @param cxxRuntimeType The value for cxxRuntimeType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxRuntimeType(Optional<? extends Linker.CxxRuntimeType> cxxRuntimeType) {
+      this.cxxRuntimeType = cxxRuntimeType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getIncludeDirs() includeDirs} list.
+     * @param element A includeDirs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIncludeDirs(String element) {
+      this.includeDirs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getIncludeDirs() includeDirs} list.
+     * @param elements An array of includeDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIncludeDirs(String... elements) {
+      this.includeDirs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getIncludeDirs() includeDirs} list.
+     * @param elements An iterable of includeDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludeDirs(Iterable<String> elements) {
+      this.includeDirs = ImmutableList.builder();
+      return addAllIncludeDirs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getIncludeDirs() includeDirs} list.
+     * @param elements An iterable of includeDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllIncludeDirs(Iterable<String> elements) {
+      this.includeDirs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getDefaults() defaults} map.
+     * @param key The key in the defaults map
+     * @param value The associated value in the defaults map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putDefaults(String key, Flavor value) {
+      this.defaults.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getDefaults() defaults} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putDefaults(Map.Entry<String, ? extends Flavor> entry) {
+      this.defaults.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getDefaults() defaults} map. Nulls are not permitted
+     * @param defaults The entries that will be added to the defaults map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDefaults(Map<String, ? extends Flavor> defaults) {
+      this.defaults = ImmutableMap.builder();
+      return putAllDefaults(defaults);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getDefaults() defaults} map. Nulls are not permitted
+     * @param defaults The entries that will be added to the defaults map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllDefaults(Map<String, ? extends Flavor> defaults) {
+      this.defaults.putAll(defaults);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getDefaultPlatform() defaultPlatform} to defaultPlatform.
+     * @param defaultPlatform The value for defaultPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDefaultPlatform(Flavor defaultPlatform) {
+      this.defaultPlatform = Objects.requireNonNull(defaultPlatform, "defaultPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getDefaultPlatform() defaultPlatform} to defaultPlatform.
+     * @param defaultPlatform The value for defaultPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDefaultPlatform(Optional<? extends Flavor> defaultPlatform) {
+      this.defaultPlatform = defaultPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param element A frameworks element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFrameworks(FrameworkPath element) {
+      this.frameworks.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An array of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFrameworks(FrameworkPath... elements) {
+      this.frameworks.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks = ImmutableSortedSet.naturalOrder();
+      return addAllFrameworks(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param element A libraries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLibraries(FrameworkPath element) {
+      this.libraries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An array of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLibraries(FrameworkPath... elements) {
+      this.libraries.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries = ImmutableSortedSet.naturalOrder();
+      return addAllLibraries(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSwiftCompilerFlags() swiftCompilerFlags} list.
+     * @param element A swiftCompilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSwiftCompilerFlags(StringWithMacros element) {
+      this.swiftCompilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSwiftCompilerFlags() swiftCompilerFlags} list.
+     * @param elements An array of swiftCompilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSwiftCompilerFlags(StringWithMacros... elements) {
+      this.swiftCompilerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSwiftCompilerFlags() swiftCompilerFlags} list.
+     * @param elements An iterable of swiftCompilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSwiftCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.swiftCompilerFlags = ImmutableList.builder();
+      return addAllSwiftCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSwiftCompilerFlags() swiftCompilerFlags} list.
+     * @param elements An iterable of swiftCompilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSwiftCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.swiftCompilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSwiftVersion() swiftVersion} to swiftVersion.
+     * @param swiftVersion The value for swiftVersion
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSwiftVersion(String swiftVersion) {
+      this.swiftVersion = Objects.requireNonNull(swiftVersion, "swiftVersion");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBinaryDescription.AbstractAppleBinaryDescriptionArg#getSwiftVersion() swiftVersion} to swiftVersion.
+     * @param swiftVersion The value for swiftVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSwiftVersion(Optional<String> swiftVersion) {
+      this.swiftVersion = swiftVersion.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AppleBinaryDescriptionArg AppleBinaryDescriptionArg}.
+     * @return An immutable instance of AppleBinaryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleBinaryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return AppleBinaryDescriptionArg.validate(new AppleBinaryDescriptionArg(this));
+    }
+
+    private boolean reexportAllHeaderDependenciesIsSet() {
+      return (optBits & OPT_BIT_REEXPORT_ALL_HEADER_DEPENDENCIES) != 0;
+    }
+
+    private boolean thinLtoIsSet() {
+      return (optBits & OPT_BIT_THIN_LTO) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AppleBinaryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
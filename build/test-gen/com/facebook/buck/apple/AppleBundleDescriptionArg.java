@@ -0,0 +1,1374 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Either;
+import com.facebook.buck.model.Flavor;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasDefaultPlatform;
+import com.facebook.buck.rules.HasTests;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AppleBundleDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AppleBundleDescription.AbstractAppleBundleDescriptionArg"})
+@Immutable
+public final class AppleBundleDescriptionArg
+    implements AppleBundleDescription.AbstractAppleBundleDescriptionArg {
+  private final BuildTarget binary;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final Either<AppleBundleExtension, String> extension;
+  private final SourcePath infoPlist;
+  private final @Nullable String productName;
+  private final @Nullable String xcodeProductType;
+  private final ImmutableMap<String, String> infoPlistSubstitutions;
+  private final ImmutableList<String> codesignFlags;
+  private final @Nullable Flavor defaultPlatform;
+  private final ImmutableSortedSet<BuildTarget> tests;
+
+  private AppleBundleDescriptionArg(
+      BuildTarget binary,
+      ImmutableSortedSet<BuildTarget> deps,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      Either<AppleBundleExtension, String> extension,
+      SourcePath infoPlist,
+      @Nullable String productName,
+      @Nullable String xcodeProductType,
+      ImmutableMap<String, String> infoPlistSubstitutions,
+      ImmutableList<String> codesignFlags,
+      @Nullable Flavor defaultPlatform,
+      ImmutableSortedSet<BuildTarget> tests) {
+    this.binary = binary;
+    this.deps = deps;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.extension = extension;
+    this.infoPlist = infoPlist;
+    this.productName = productName;
+    this.xcodeProductType = xcodeProductType;
+    this.infoPlistSubstitutions = infoPlistSubstitutions;
+    this.codesignFlags = codesignFlags;
+    this.defaultPlatform = defaultPlatform;
+    this.tests = tests;
+  }
+
+  /**
+   * @return The value of the {@code binary} attribute
+   */
+  @Override
+  public BuildTarget getBinary() {
+    return binary;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code extension} attribute
+   */
+  @Override
+  public Either<AppleBundleExtension, String> getExtension() {
+    return extension;
+  }
+
+  /**
+   * @return The value of the {@code infoPlist} attribute
+   */
+  @Override
+  public SourcePath getInfoPlist() {
+    return infoPlist;
+  }
+
+  /**
+   * @return The value of the {@code productName} attribute
+   */
+  @Override
+  public Optional<String> getProductName() {
+    return Optional.ofNullable(productName);
+  }
+
+  /**
+   * @return The value of the {@code xcodeProductType} attribute
+   */
+  @Override
+  public Optional<String> getXcodeProductType() {
+    return Optional.ofNullable(xcodeProductType);
+  }
+
+  /**
+   * @return The value of the {@code infoPlistSubstitutions} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getInfoPlistSubstitutions() {
+    return infoPlistSubstitutions;
+  }
+
+  /**
+   * @return The value of the {@code codesignFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCodesignFlags() {
+    return codesignFlags;
+  }
+
+  /**
+   * @return If present, the default platform with which to build this target if none are provided
+   *     on the command line.
+   */
+  @Override
+  public Optional<Flavor> getDefaultPlatform() {
+    return Optional.ofNullable(defaultPlatform);
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getBinary() binary} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for binary
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBundleDescriptionArg withBinary(BuildTarget value) {
+    if (this.binary == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "binary");
+    return new AppleBundleDescriptionArg(
+        newValue,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.extension,
+        this.infoPlist,
+        this.productName,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        this.defaultPlatform,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBundleDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.extension,
+        this.infoPlist,
+        this.productName,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        this.defaultPlatform,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBundleDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.extension,
+        this.infoPlist,
+        this.productName,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        this.defaultPlatform,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBundleDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.extension,
+        this.infoPlist,
+        this.productName,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        this.defaultPlatform,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBundleDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        this.name,
+        newValue,
+        this.labels,
+        this.extension,
+        this.infoPlist,
+        this.productName,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        this.defaultPlatform,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBundleDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        this.name,
+        newValue,
+        this.labels,
+        this.extension,
+        this.infoPlist,
+        this.productName,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        this.defaultPlatform,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBundleDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        this.name,
+        this.licenses,
+        newValue,
+        this.extension,
+        this.infoPlist,
+        this.productName,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        this.defaultPlatform,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBundleDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        this.name,
+        this.licenses,
+        newValue,
+        this.extension,
+        this.infoPlist,
+        this.productName,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        this.defaultPlatform,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getExtension() extension} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for extension
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBundleDescriptionArg withExtension(Either<AppleBundleExtension, String> value) {
+    if (this.extension == value) return this;
+    Either<AppleBundleExtension, String> newValue = Objects.requireNonNull(value, "extension");
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.infoPlist,
+        this.productName,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        this.defaultPlatform,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getInfoPlist() infoPlist} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for infoPlist
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleBundleDescriptionArg withInfoPlist(SourcePath value) {
+    if (this.infoPlist == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "infoPlist");
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.extension,
+        newValue,
+        this.productName,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        this.defaultPlatform,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getProductName() productName} attribute.
+   * @param value The value for productName
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBundleDescriptionArg withProductName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "productName");
+    if (Objects.equals(this.productName, newValue)) return this;
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.extension,
+        this.infoPlist,
+        newValue,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        this.defaultPlatform,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getProductName() productName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for productName
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBundleDescriptionArg withProductName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.productName, value)) return this;
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.extension,
+        this.infoPlist,
+        value,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        this.defaultPlatform,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getXcodeProductType() xcodeProductType} attribute.
+   * @param value The value for xcodeProductType
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBundleDescriptionArg withXcodeProductType(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "xcodeProductType");
+    if (Objects.equals(this.xcodeProductType, newValue)) return this;
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.extension,
+        this.infoPlist,
+        this.productName,
+        newValue,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        this.defaultPlatform,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getXcodeProductType() xcodeProductType} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for xcodeProductType
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBundleDescriptionArg withXcodeProductType(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.xcodeProductType, value)) return this;
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.extension,
+        this.infoPlist,
+        this.productName,
+        value,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        this.defaultPlatform,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the infoPlistSubstitutions map
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBundleDescriptionArg withInfoPlistSubstitutions(Map<String, ? extends String> entries) {
+    if (this.infoPlistSubstitutions == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.extension,
+        this.infoPlist,
+        this.productName,
+        this.xcodeProductType,
+        newValue,
+        this.codesignFlags,
+        this.defaultPlatform,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getCodesignFlags() codesignFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBundleDescriptionArg withCodesignFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.extension,
+        this.infoPlist,
+        this.productName,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        newValue,
+        this.defaultPlatform,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getCodesignFlags() codesignFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of codesignFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBundleDescriptionArg withCodesignFlags(Iterable<String> elements) {
+    if (this.codesignFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.extension,
+        this.infoPlist,
+        this.productName,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        newValue,
+        this.defaultPlatform,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getDefaultPlatform() defaultPlatform} attribute.
+   * @param value The value for defaultPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBundleDescriptionArg withDefaultPlatform(Flavor value) {
+    @Nullable Flavor newValue = Objects.requireNonNull(value, "defaultPlatform");
+    if (this.defaultPlatform == newValue) return this;
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.extension,
+        this.infoPlist,
+        this.productName,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getDefaultPlatform() defaultPlatform} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for defaultPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBundleDescriptionArg withDefaultPlatform(Optional<? extends Flavor> optional) {
+    @Nullable Flavor value = optional.orElse(null);
+    if (this.defaultPlatform == value) return this;
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.extension,
+        this.infoPlist,
+        this.productName,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        value,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getTests() tests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBundleDescriptionArg withTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.extension,
+        this.infoPlist,
+        this.productName,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        this.defaultPlatform,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getTests() tests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of tests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleBundleDescriptionArg withTests(Iterable<? extends BuildTarget> elements) {
+    if (this.tests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new AppleBundleDescriptionArg(
+        this.binary,
+        this.deps,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.extension,
+        this.infoPlist,
+        this.productName,
+        this.xcodeProductType,
+        this.infoPlistSubstitutions,
+        this.codesignFlags,
+        this.defaultPlatform,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleBundleDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleBundleDescriptionArg
+        && equalTo((AppleBundleDescriptionArg) another);
+  }
+
+  private boolean equalTo(AppleBundleDescriptionArg another) {
+    return binary.equals(another.binary)
+        && deps.equals(another.deps)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && extension.equals(another.extension)
+        && infoPlist.equals(another.infoPlist)
+        && Objects.equals(productName, another.productName)
+        && Objects.equals(xcodeProductType, another.xcodeProductType)
+        && infoPlistSubstitutions.equals(another.infoPlistSubstitutions)
+        && codesignFlags.equals(another.codesignFlags)
+        && Objects.equals(defaultPlatform, another.defaultPlatform)
+        && tests.equals(another.tests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code binary}, {@code deps}, {@code name}, {@code licenses}, {@code labels}, {@code extension}, {@code infoPlist}, {@code productName}, {@code xcodeProductType}, {@code infoPlistSubstitutions}, {@code codesignFlags}, {@code defaultPlatform}, {@code tests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + binary.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + extension.hashCode();
+    h += (h << 5) + infoPlist.hashCode();
+    h += (h << 5) + Objects.hashCode(productName);
+    h += (h << 5) + Objects.hashCode(xcodeProductType);
+    h += (h << 5) + infoPlistSubstitutions.hashCode();
+    h += (h << 5) + codesignFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultPlatform);
+    h += (h << 5) + tests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleBundleDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleBundleDescriptionArg")
+        .omitNullValues()
+        .add("binary", binary)
+        .add("deps", deps)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("extension", extension)
+        .add("infoPlist", infoPlist)
+        .add("productName", productName)
+        .add("xcodeProductType", xcodeProductType)
+        .add("infoPlistSubstitutions", infoPlistSubstitutions)
+        .add("codesignFlags", codesignFlags)
+        .add("defaultPlatform", defaultPlatform)
+        .add("tests", tests)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AppleBundleDescriptionArg instance
+   */
+  static AppleBundleDescriptionArg copyOf(AppleBundleDescription.AbstractAppleBundleDescriptionArg instance) {
+    if (instance instanceof AppleBundleDescriptionArg) {
+      return (AppleBundleDescriptionArg) instance;
+    }
+    return AppleBundleDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AppleBundleDescriptionArg AppleBundleDescriptionArg}.
+   * @return A new AppleBundleDescriptionArg builder
+   */
+  public static AppleBundleDescriptionArg.Builder builder() {
+    return new AppleBundleDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleBundleDescriptionArg AppleBundleDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BINARY = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private static final long INIT_BIT_EXTENSION = 0x4L;
+    private static final long INIT_BIT_INFO_PLIST = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable BuildTarget binary;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable Either<AppleBundleExtension, String> extension;
+    private @Nullable SourcePath infoPlist;
+    private @Nullable String productName;
+    private @Nullable String xcodeProductType;
+    private ImmutableMap.Builder<String, String> infoPlistSubstitutions = ImmutableMap.builder();
+    private ImmutableList.Builder<String> codesignFlags = ImmutableList.builder();
+    private @Nullable Flavor defaultPlatform;
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDefaultPlatform} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDefaultPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.apple.HasAppleBundleFields} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasAppleBundleFields instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.apple.HasAppleCodesignFields} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasAppleCodesignFields instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleBundleDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AppleBundleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleBundleDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AppleBundleDescription.AbstractAppleBundleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof HasDefaultPlatform) {
+        HasDefaultPlatform instance = (HasDefaultPlatform) object;
+        Optional<Flavor> defaultPlatformOptional = instance.getDefaultPlatform();
+        if (defaultPlatformOptional.isPresent()) {
+          setDefaultPlatform(defaultPlatformOptional);
+        }
+      }
+      if (object instanceof HasAppleBundleFields) {
+        HasAppleBundleFields instance = (HasAppleBundleFields) object;
+        setExtension(instance.getExtension());
+        putAllInfoPlistSubstitutions(instance.getInfoPlistSubstitutions());
+        setInfoPlist(instance.getInfoPlist());
+        Optional<String> productNameOptional = instance.getProductName();
+        if (productNameOptional.isPresent()) {
+          setProductName(productNameOptional);
+        }
+        Optional<String> xcodeProductTypeOptional = instance.getXcodeProductType();
+        if (xcodeProductTypeOptional.isPresent()) {
+          setXcodeProductType(xcodeProductTypeOptional);
+        }
+      }
+      if (object instanceof HasAppleCodesignFields) {
+        HasAppleCodesignFields instance = (HasAppleCodesignFields) object;
+        addAllCodesignFlags(instance.getCodesignFlags());
+      }
+      if (object instanceof AppleBundleDescription.AbstractAppleBundleDescriptionArg) {
+        AppleBundleDescription.AbstractAppleBundleDescriptionArg instance = (AppleBundleDescription.AbstractAppleBundleDescriptionArg) object;
+        if ((bits & 0x1L) == 0) {
+          addAllDeps(instance.getDeps());
+          bits |= 0x1L;
+        }
+        setBinary(instance.getBinary());
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        if ((bits & 0x1L) == 0) {
+          addAllDeps(instance.getDeps());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getBinary() binary} attribute.
+     * @param binary The value for binary 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBinary(BuildTarget binary) {
+      this.binary = Objects.requireNonNull(binary, "binary");
+      initBits &= ~INIT_BIT_BINARY;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getExtension() extension} attribute.
+     * @param extension The value for extension 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtension(Either<AppleBundleExtension, String> extension) {
+      this.extension = Objects.requireNonNull(extension, "extension");
+      initBits &= ~INIT_BIT_EXTENSION;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getInfoPlist() infoPlist} attribute.
+     * @param infoPlist The value for infoPlist 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInfoPlist(SourcePath infoPlist) {
+      this.infoPlist = Objects.requireNonNull(infoPlist, "infoPlist");
+      initBits &= ~INIT_BIT_INFO_PLIST;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getProductName() productName} to productName.
+     * @param productName The value for productName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProductName(String productName) {
+      this.productName = Objects.requireNonNull(productName, "productName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getProductName() productName} to productName.
+     * @param productName The value for productName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProductName(Optional<String> productName) {
+      this.productName = productName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getXcodeProductType() xcodeProductType} to xcodeProductType.
+     * @param xcodeProductType The value for xcodeProductType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setXcodeProductType(String xcodeProductType) {
+      this.xcodeProductType = Objects.requireNonNull(xcodeProductType, "xcodeProductType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getXcodeProductType() xcodeProductType} to xcodeProductType.
+     * @param xcodeProductType The value for xcodeProductType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setXcodeProductType(Optional<String> xcodeProductType) {
+      this.xcodeProductType = xcodeProductType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map.
+     * @param key The key in the infoPlistSubstitutions map
+     * @param value The associated value in the infoPlistSubstitutions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putInfoPlistSubstitutions(String key, String value) {
+      this.infoPlistSubstitutions.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putInfoPlistSubstitutions(Map.Entry<String, ? extends String> entry) {
+      this.infoPlistSubstitutions.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map. Nulls are not permitted
+     * @param infoPlistSubstitutions The entries that will be added to the infoPlistSubstitutions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInfoPlistSubstitutions(Map<String, ? extends String> infoPlistSubstitutions) {
+      this.infoPlistSubstitutions = ImmutableMap.builder();
+      return putAllInfoPlistSubstitutions(infoPlistSubstitutions);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map. Nulls are not permitted
+     * @param infoPlistSubstitutions The entries that will be added to the infoPlistSubstitutions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllInfoPlistSubstitutions(Map<String, ? extends String> infoPlistSubstitutions) {
+      this.infoPlistSubstitutions.putAll(infoPlistSubstitutions);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getCodesignFlags() codesignFlags} list.
+     * @param element A codesignFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCodesignFlags(String element) {
+      this.codesignFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getCodesignFlags() codesignFlags} list.
+     * @param elements An array of codesignFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCodesignFlags(String... elements) {
+      this.codesignFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getCodesignFlags() codesignFlags} list.
+     * @param elements An iterable of codesignFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCodesignFlags(Iterable<String> elements) {
+      this.codesignFlags = ImmutableList.builder();
+      return addAllCodesignFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getCodesignFlags() codesignFlags} list.
+     * @param elements An iterable of codesignFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCodesignFlags(Iterable<String> elements) {
+      this.codesignFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getDefaultPlatform() defaultPlatform} to defaultPlatform.
+     * @param defaultPlatform The value for defaultPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDefaultPlatform(Flavor defaultPlatform) {
+      this.defaultPlatform = Objects.requireNonNull(defaultPlatform, "defaultPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getDefaultPlatform() defaultPlatform} to defaultPlatform.
+     * @param defaultPlatform The value for defaultPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDefaultPlatform(Optional<? extends Flavor> defaultPlatform) {
+      this.defaultPlatform = defaultPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AppleBundleDescriptionArg AppleBundleDescriptionArg}.
+     * @return An immutable instance of AppleBundleDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleBundleDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AppleBundleDescriptionArg(
+          binary,
+          deps.build(),
+          name,
+          licenses.build(),
+          labels.build(),
+          extension,
+          infoPlist,
+          productName,
+          xcodeProductType,
+          infoPlistSubstitutions.build(),
+          codesignFlags.build(),
+          defaultPlatform,
+          tests.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_BINARY) != 0) attributes.add("binary");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      if ((initBits & INIT_BIT_EXTENSION) != 0) attributes.add("extension");
+      if ((initBits & INIT_BIT_INFO_PLIST) != 0) attributes.add("infoPlist");
+      return "Cannot build AppleBundleDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,452 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code FakeRuleDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg"})
+@Immutable
+public final class FakeRuleDescriptionArg
+    implements OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg {
+  private final ImmutableSet<Path> inputs;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSet<SourcePath> licenses;
+  private final String name;
+
+  private FakeRuleDescriptionArg(
+      ImmutableSet<Path> inputs,
+      ImmutableSortedSet<String> labels,
+      ImmutableSet<SourcePath> licenses,
+      String name) {
+    this.inputs = inputs;
+    this.labels = labels;
+    this.licenses = licenses;
+    this.name = name;
+  }
+
+  /**
+   * @return The value of the {@code inputs} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getInputs() {
+    return inputs;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getInputs() inputs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeRuleDescriptionArg withInputs(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new FakeRuleDescriptionArg(newValue, this.labels, this.licenses, this.name);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getInputs() inputs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of inputs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeRuleDescriptionArg withInputs(Iterable<? extends Path> elements) {
+    if (this.inputs == elements) return this;
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new FakeRuleDescriptionArg(newValue, this.labels, this.licenses, this.name);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeRuleDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new FakeRuleDescriptionArg(this.inputs, newValue, this.licenses, this.name);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeRuleDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new FakeRuleDescriptionArg(this.inputs, newValue, this.licenses, this.name);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeRuleDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new FakeRuleDescriptionArg(this.inputs, this.labels, newValue, this.name);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeRuleDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new FakeRuleDescriptionArg(this.inputs, this.labels, newValue, this.name);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeRuleDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new FakeRuleDescriptionArg(this.inputs, this.labels, this.licenses, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code FakeRuleDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof FakeRuleDescriptionArg
+        && equalTo((FakeRuleDescriptionArg) another);
+  }
+
+  private boolean equalTo(FakeRuleDescriptionArg another) {
+    return inputs.equals(another.inputs)
+        && labels.equals(another.labels)
+        && licenses.equals(another.licenses)
+        && name.equals(another.name);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code inputs}, {@code labels}, {@code licenses}, {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + inputs.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FakeRuleDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FakeRuleDescriptionArg")
+        .omitNullValues()
+        .add("inputs", inputs)
+        .add("labels", labels)
+        .add("licenses", licenses)
+        .add("name", name)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable FakeRuleDescriptionArg instance
+   */
+  static FakeRuleDescriptionArg copyOf(OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg instance) {
+    if (instance instanceof FakeRuleDescriptionArg) {
+      return (FakeRuleDescriptionArg) instance;
+    }
+    return FakeRuleDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link FakeRuleDescriptionArg FakeRuleDescriptionArg}.
+   * @return A new FakeRuleDescriptionArg builder
+   */
+  public static FakeRuleDescriptionArg.Builder builder() {
+    return new FakeRuleDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link FakeRuleDescriptionArg FakeRuleDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableSet.Builder<Path> inputs = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private @Nullable String name;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code FakeRuleDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(FakeRuleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractFakeRuleDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg) {
+        OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg instance = (OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg) object;
+        addAllInputs(instance.getInputs());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Adds one element to {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getInputs() inputs} set.
+     * @param element A inputs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addInputs(Path element) {
+      this.inputs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getInputs() inputs} set.
+     * @param elements An array of inputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addInputs(Path... elements) {
+      this.inputs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getInputs() inputs} set.
+     * @param elements An iterable of inputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInputs(Iterable<? extends Path> elements) {
+      this.inputs = ImmutableSet.builder();
+      return addAllInputs(elements);
+    }
+
+    /**
+     * Adds elements to {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getInputs() inputs} set.
+     * @param elements An iterable of inputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllInputs(Iterable<? extends Path> elements) {
+      this.inputs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link OwnersReportTest.FakeRuleDescription.AbstractFakeRuleDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link FakeRuleDescriptionArg FakeRuleDescriptionArg}.
+     * @return An immutable instance of FakeRuleDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public FakeRuleDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new FakeRuleDescriptionArg(inputs.build(), labels.build(), licenses.build(), name);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build FakeRuleDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,234 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link InstallTriggerIntegrationTest.AbstractInstallTriggerDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code InstallTriggerDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "InstallTriggerIntegrationTest.AbstractInstallTriggerDescriptionArg"})
+@Immutable
+public final class InstallTriggerDescriptionArg
+    implements InstallTriggerIntegrationTest.AbstractInstallTriggerDescriptionArg {
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private InstallTriggerDescriptionArg(ImmutableSortedSet<BuildTarget> deps) {
+    this.deps = deps;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link InstallTriggerIntegrationTest.AbstractInstallTriggerDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final InstallTriggerDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new InstallTriggerDescriptionArg(newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link InstallTriggerIntegrationTest.AbstractInstallTriggerDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final InstallTriggerDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new InstallTriggerDescriptionArg(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code InstallTriggerDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof InstallTriggerDescriptionArg
+        && equalTo((InstallTriggerDescriptionArg) another);
+  }
+
+  private boolean equalTo(InstallTriggerDescriptionArg another) {
+    return deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code InstallTriggerDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("InstallTriggerDescriptionArg")
+        .omitNullValues()
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link InstallTriggerIntegrationTest.AbstractInstallTriggerDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable InstallTriggerDescriptionArg instance
+   */
+  static InstallTriggerDescriptionArg copyOf(InstallTriggerIntegrationTest.AbstractInstallTriggerDescriptionArg instance) {
+    if (instance instanceof InstallTriggerDescriptionArg) {
+      return (InstallTriggerDescriptionArg) instance;
+    }
+    return InstallTriggerDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link InstallTriggerDescriptionArg InstallTriggerDescriptionArg}.
+   * @return A new InstallTriggerDescriptionArg builder
+   */
+  public static InstallTriggerDescriptionArg.Builder builder() {
+    return new InstallTriggerDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link InstallTriggerDescriptionArg InstallTriggerDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code InstallTriggerDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(InstallTriggerDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractInstallTriggerDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(InstallTriggerIntegrationTest.AbstractInstallTriggerDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Adds one element to {@link InstallTriggerIntegrationTest.AbstractInstallTriggerDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link InstallTriggerIntegrationTest.AbstractInstallTriggerDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link InstallTriggerIntegrationTest.AbstractInstallTriggerDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link InstallTriggerIntegrationTest.AbstractInstallTriggerDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link InstallTriggerDescriptionArg InstallTriggerDescriptionArg}.
+     * @return An immutable instance of InstallTriggerDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public InstallTriggerDescriptionArg build() {
+      return new InstallTriggerDescriptionArg(deps.build());
+    }
+  }
+}
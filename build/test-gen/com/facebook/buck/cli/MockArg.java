@@ -0,0 +1,125 @@
+package com.facebook.buck.cli;
+
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link BuildCommandErrorsIntegrationTest.AbstractMockArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code MockArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuildCommandErrorsIntegrationTest.AbstractMockArg"})
+@Immutable
+public final class MockArg implements BuildCommandErrorsIntegrationTest.AbstractMockArg {
+
+  private MockArg(MockArg.Builder builder) {
+  }
+
+  /**
+   * This instance is equal to all instances of {@code MockArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof MockArg
+        && equalTo((MockArg) another);
+  }
+
+  private boolean equalTo(MockArg another) {
+    return true;
+  }
+
+  /**
+   * Returns a constant hash code value.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return -600847437;
+  }
+
+  /**
+   * Prints the immutable value {@code MockArg}.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return "MockArg{}";
+  }
+
+  /**
+   * Creates an immutable copy of a {@link BuildCommandErrorsIntegrationTest.AbstractMockArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable MockArg instance
+   */
+  static MockArg copyOf(BuildCommandErrorsIntegrationTest.AbstractMockArg instance) {
+    if (instance instanceof MockArg) {
+      return (MockArg) instance;
+    }
+    return MockArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link MockArg MockArg}.
+   * @return A new MockArg builder
+   */
+  public static MockArg.Builder builder() {
+    return new MockArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link MockArg MockArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code MockArg} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(MockArg instance) {
+      return from((BuildCommandErrorsIntegrationTest.AbstractMockArg) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractMockArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(BuildCommandErrorsIntegrationTest.AbstractMockArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      return this;
+    }
+
+    /**
+     * Builds a new {@link MockArg MockArg}.
+     * @return An immutable instance of MockArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public MockArg build() {
+      return new MockArg(this);
+    }
+  }
+}
@@ -0,0 +1,6088 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.facebook.buck.rules.coercer.SourceList;
+import com.facebook.buck.rules.coercer.VersionMatchedCollection;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PrebuiltCxxLibraryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg"})
+@Immutable
+public final class PrebuiltCxxLibraryDescriptionArg
+    implements PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg {
+  private final @Nullable ImmutableList<SourcePath> headerDirs;
+  private final @Nullable PatternMatchedCollection<ImmutableList<SourcePath>> platformHeaderDirs;
+  private final @Nullable VersionMatchedCollection<ImmutableList<SourcePath>> versionedHeaderDirs;
+  private final @Nullable SourcePath sharedLib;
+  private final @Nullable PatternMatchedCollection<SourcePath> platformSharedLib;
+  private final @Nullable VersionMatchedCollection<SourcePath> versionedSharedLib;
+  private final @Nullable SourcePath staticLib;
+  private final @Nullable PatternMatchedCollection<SourcePath> platformStaticLib;
+  private final @Nullable VersionMatchedCollection<SourcePath> versionedStaticLib;
+  private final @Nullable SourcePath staticPicLib;
+  private final @Nullable PatternMatchedCollection<SourcePath> platformStaticPicLib;
+  private final @Nullable VersionMatchedCollection<SourcePath> versionedStaticPicLib;
+  private final @Nullable ImmutableList<String> includeDirs;
+  private final @Nullable String libName;
+  private final @Nullable String libDir;
+  private final boolean headerOnly;
+  private final SourceList exportedHeaders;
+  private final PatternMatchedCollection<SourceList> exportedPlatformHeaders;
+  private final @Nullable String headerNamespace;
+  private final boolean provided;
+  private final boolean linkWhole;
+  private final boolean forceStatic;
+  private final @Nullable NativeLinkable.Linkage preferredLinkage;
+  private final ImmutableList<String> exportedPreprocessorFlags;
+  private final PatternMatchedCollection<ImmutableList<String>> exportedPlatformPreprocessorFlags;
+  private final ImmutableMap<CxxSource.Type, ImmutableList<String>> exportedLangPreprocessorFlags;
+  private final ImmutableList<String> exportedLinkerFlags;
+  private final PatternMatchedCollection<ImmutableList<String>> exportedPlatformLinkerFlags;
+  private final @Nullable String soname;
+  private final boolean linkWithoutSoname;
+  private final boolean canBeAsset;
+  private final ImmutableSortedSet<FrameworkPath> frameworks;
+  private final ImmutableSortedSet<FrameworkPath> libraries;
+  private final ImmutableSortedSet<BuildTarget> exportedDeps;
+  private final @Nullable Pattern supportedPlatformsRegex;
+  private final @Nullable VersionMatchedCollection<String> versionedSubDir;
+  private final boolean supportsSharedLibraryInterface;
+  private final @Nullable Boolean supportsMergedLinking;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private PrebuiltCxxLibraryDescriptionArg(PrebuiltCxxLibraryDescriptionArg.Builder builder) {
+    this.headerDirs = builder.headerDirs;
+    this.platformHeaderDirs = builder.platformHeaderDirs;
+    this.versionedHeaderDirs = builder.versionedHeaderDirs;
+    this.sharedLib = builder.sharedLib;
+    this.platformSharedLib = builder.platformSharedLib;
+    this.versionedSharedLib = builder.versionedSharedLib;
+    this.staticLib = builder.staticLib;
+    this.platformStaticLib = builder.platformStaticLib;
+    this.versionedStaticLib = builder.versionedStaticLib;
+    this.staticPicLib = builder.staticPicLib;
+    this.platformStaticPicLib = builder.platformStaticPicLib;
+    this.versionedStaticPicLib = builder.versionedStaticPicLib;
+    this.includeDirs = builder.includeDirs;
+    this.libName = builder.libName;
+    this.libDir = builder.libDir;
+    this.headerNamespace = builder.headerNamespace;
+    this.preferredLinkage = builder.preferredLinkage;
+    this.exportedPreprocessorFlags = builder.exportedPreprocessorFlags.build();
+    this.exportedLangPreprocessorFlags = builder.exportedLangPreprocessorFlags.build();
+    this.exportedLinkerFlags = builder.exportedLinkerFlags.build();
+    this.soname = builder.soname;
+    this.frameworks = builder.frameworks.build();
+    this.libraries = builder.libraries.build();
+    this.exportedDeps = builder.exportedDeps.build();
+    this.supportedPlatformsRegex = builder.supportedPlatformsRegex;
+    this.versionedSubDir = builder.versionedSubDir;
+    this.supportsMergedLinking = builder.supportsMergedLinking;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    if (builder.headerOnlyIsSet()) {
+      initShim.setHeaderOnly(builder.headerOnly);
+    }
+    if (builder.exportedHeaders != null) {
+      initShim.setExportedHeaders(builder.exportedHeaders);
+    }
+    if (builder.exportedPlatformHeaders != null) {
+      initShim.setExportedPlatformHeaders(builder.exportedPlatformHeaders);
+    }
+    if (builder.providedIsSet()) {
+      initShim.setProvided(builder.provided);
+    }
+    if (builder.linkWholeIsSet()) {
+      initShim.setLinkWhole(builder.linkWhole);
+    }
+    if (builder.forceStaticIsSet()) {
+      initShim.setForceStatic(builder.forceStatic);
+    }
+    if (builder.exportedPlatformPreprocessorFlags != null) {
+      initShim.setExportedPlatformPreprocessorFlags(builder.exportedPlatformPreprocessorFlags);
+    }
+    if (builder.exportedPlatformLinkerFlags != null) {
+      initShim.setExportedPlatformLinkerFlags(builder.exportedPlatformLinkerFlags);
+    }
+    if (builder.linkWithoutSonameIsSet()) {
+      initShim.setLinkWithoutSoname(builder.linkWithoutSoname);
+    }
+    if (builder.canBeAssetIsSet()) {
+      initShim.setCanBeAsset(builder.canBeAsset);
+    }
+    if (builder.supportsSharedLibraryInterfaceIsSet()) {
+      initShim.setSupportsSharedLibraryInterface(builder.supportsSharedLibraryInterface);
+    }
+    this.headerOnly = initShim.isHeaderOnly();
+    this.exportedHeaders = initShim.getExportedHeaders();
+    this.exportedPlatformHeaders = initShim.getExportedPlatformHeaders();
+    this.provided = initShim.isProvided();
+    this.linkWhole = initShim.isLinkWhole();
+    this.forceStatic = initShim.isForceStatic();
+    this.exportedPlatformPreprocessorFlags = initShim.getExportedPlatformPreprocessorFlags();
+    this.exportedPlatformLinkerFlags = initShim.getExportedPlatformLinkerFlags();
+    this.linkWithoutSoname = initShim.getLinkWithoutSoname();
+    this.canBeAsset = initShim.getCanBeAsset();
+    this.supportsSharedLibraryInterface = initShim.isSupportsSharedLibraryInterface();
+    this.initShim = null;
+  }
+
+  private PrebuiltCxxLibraryDescriptionArg(
+      @Nullable ImmutableList<SourcePath> headerDirs,
+      @Nullable PatternMatchedCollection<ImmutableList<SourcePath>> platformHeaderDirs,
+      @Nullable VersionMatchedCollection<ImmutableList<SourcePath>> versionedHeaderDirs,
+      @Nullable SourcePath sharedLib,
+      @Nullable PatternMatchedCollection<SourcePath> platformSharedLib,
+      @Nullable VersionMatchedCollection<SourcePath> versionedSharedLib,
+      @Nullable SourcePath staticLib,
+      @Nullable PatternMatchedCollection<SourcePath> platformStaticLib,
+      @Nullable VersionMatchedCollection<SourcePath> versionedStaticLib,
+      @Nullable SourcePath staticPicLib,
+      @Nullable PatternMatchedCollection<SourcePath> platformStaticPicLib,
+      @Nullable VersionMatchedCollection<SourcePath> versionedStaticPicLib,
+      @Nullable ImmutableList<String> includeDirs,
+      @Nullable String libName,
+      @Nullable String libDir,
+      boolean headerOnly,
+      SourceList exportedHeaders,
+      PatternMatchedCollection<SourceList> exportedPlatformHeaders,
+      @Nullable String headerNamespace,
+      boolean provided,
+      boolean linkWhole,
+      boolean forceStatic,
+      @Nullable NativeLinkable.Linkage preferredLinkage,
+      ImmutableList<String> exportedPreprocessorFlags,
+      PatternMatchedCollection<ImmutableList<String>> exportedPlatformPreprocessorFlags,
+      ImmutableMap<CxxSource.Type, ImmutableList<String>> exportedLangPreprocessorFlags,
+      ImmutableList<String> exportedLinkerFlags,
+      PatternMatchedCollection<ImmutableList<String>> exportedPlatformLinkerFlags,
+      @Nullable String soname,
+      boolean linkWithoutSoname,
+      boolean canBeAsset,
+      ImmutableSortedSet<FrameworkPath> frameworks,
+      ImmutableSortedSet<FrameworkPath> libraries,
+      ImmutableSortedSet<BuildTarget> exportedDeps,
+      @Nullable Pattern supportedPlatformsRegex,
+      @Nullable VersionMatchedCollection<String> versionedSubDir,
+      boolean supportsSharedLibraryInterface,
+      @Nullable Boolean supportsMergedLinking,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.headerDirs = headerDirs;
+    this.platformHeaderDirs = platformHeaderDirs;
+    this.versionedHeaderDirs = versionedHeaderDirs;
+    this.sharedLib = sharedLib;
+    this.platformSharedLib = platformSharedLib;
+    this.versionedSharedLib = versionedSharedLib;
+    this.staticLib = staticLib;
+    this.platformStaticLib = platformStaticLib;
+    this.versionedStaticLib = versionedStaticLib;
+    this.staticPicLib = staticPicLib;
+    this.platformStaticPicLib = platformStaticPicLib;
+    this.versionedStaticPicLib = versionedStaticPicLib;
+    this.includeDirs = includeDirs;
+    this.libName = libName;
+    this.libDir = libDir;
+    this.headerOnly = headerOnly;
+    this.exportedHeaders = exportedHeaders;
+    this.exportedPlatformHeaders = exportedPlatformHeaders;
+    this.headerNamespace = headerNamespace;
+    this.provided = provided;
+    this.linkWhole = linkWhole;
+    this.forceStatic = forceStatic;
+    this.preferredLinkage = preferredLinkage;
+    this.exportedPreprocessorFlags = exportedPreprocessorFlags;
+    this.exportedPlatformPreprocessorFlags = exportedPlatformPreprocessorFlags;
+    this.exportedLangPreprocessorFlags = exportedLangPreprocessorFlags;
+    this.exportedLinkerFlags = exportedLinkerFlags;
+    this.exportedPlatformLinkerFlags = exportedPlatformLinkerFlags;
+    this.soname = soname;
+    this.linkWithoutSoname = linkWithoutSoname;
+    this.canBeAsset = canBeAsset;
+    this.frameworks = frameworks;
+    this.libraries = libraries;
+    this.exportedDeps = exportedDeps;
+    this.supportedPlatformsRegex = supportedPlatformsRegex;
+    this.versionedSubDir = versionedSubDir;
+    this.supportsSharedLibraryInterface = supportsSharedLibraryInterface;
+    this.supportsMergedLinking = supportsMergedLinking;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean headerOnly;
+    private int headerOnlyBuildStage;
+
+    boolean isHeaderOnly() {
+      if (headerOnlyBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (headerOnlyBuildStage == STAGE_UNINITIALIZED) {
+        headerOnlyBuildStage = STAGE_INITIALIZING;
+        this.headerOnly = isHeaderOnlyInitialize();
+        headerOnlyBuildStage = STAGE_INITIALIZED;
+      }
+      return this.headerOnly;
+    }
+
+    void setHeaderOnly(boolean headerOnly) {
+      this.headerOnly = headerOnly;
+      headerOnlyBuildStage = STAGE_INITIALIZED;
+    }
+    private SourceList exportedHeaders;
+    private int exportedHeadersBuildStage;
+
+    SourceList getExportedHeaders() {
+      if (exportedHeadersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedHeadersBuildStage == STAGE_UNINITIALIZED) {
+        exportedHeadersBuildStage = STAGE_INITIALIZING;
+        this.exportedHeaders = Objects.requireNonNull(getExportedHeadersInitialize(), "exportedHeaders");
+        exportedHeadersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedHeaders;
+    }
+
+    void setExportedHeaders(SourceList exportedHeaders) {
+      this.exportedHeaders = exportedHeaders;
+      exportedHeadersBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<SourceList> exportedPlatformHeaders;
+    private int exportedPlatformHeadersBuildStage;
+
+    PatternMatchedCollection<SourceList> getExportedPlatformHeaders() {
+      if (exportedPlatformHeadersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedPlatformHeadersBuildStage == STAGE_UNINITIALIZED) {
+        exportedPlatformHeadersBuildStage = STAGE_INITIALIZING;
+        this.exportedPlatformHeaders = Objects.requireNonNull(getExportedPlatformHeadersInitialize(), "exportedPlatformHeaders");
+        exportedPlatformHeadersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedPlatformHeaders;
+    }
+
+    void setExportedPlatformHeaders(PatternMatchedCollection<SourceList> exportedPlatformHeaders) {
+      this.exportedPlatformHeaders = exportedPlatformHeaders;
+      exportedPlatformHeadersBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean provided;
+    private int providedBuildStage;
+
+    boolean isProvided() {
+      if (providedBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (providedBuildStage == STAGE_UNINITIALIZED) {
+        providedBuildStage = STAGE_INITIALIZING;
+        this.provided = isProvidedInitialize();
+        providedBuildStage = STAGE_INITIALIZED;
+      }
+      return this.provided;
+    }
+
+    void setProvided(boolean provided) {
+      this.provided = provided;
+      providedBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean linkWhole;
+    private int linkWholeBuildStage;
+
+    boolean isLinkWhole() {
+      if (linkWholeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (linkWholeBuildStage == STAGE_UNINITIALIZED) {
+        linkWholeBuildStage = STAGE_INITIALIZING;
+        this.linkWhole = isLinkWholeInitialize();
+        linkWholeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.linkWhole;
+    }
+
+    void setLinkWhole(boolean linkWhole) {
+      this.linkWhole = linkWhole;
+      linkWholeBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean forceStatic;
+    private int forceStaticBuildStage;
+
+    boolean isForceStatic() {
+      if (forceStaticBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (forceStaticBuildStage == STAGE_UNINITIALIZED) {
+        forceStaticBuildStage = STAGE_INITIALIZING;
+        this.forceStatic = isForceStaticInitialize();
+        forceStaticBuildStage = STAGE_INITIALIZED;
+      }
+      return this.forceStatic;
+    }
+
+    void setForceStatic(boolean forceStatic) {
+      this.forceStatic = forceStatic;
+      forceStaticBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableList<String>> exportedPlatformPreprocessorFlags;
+    private int exportedPlatformPreprocessorFlagsBuildStage;
+
+    PatternMatchedCollection<ImmutableList<String>> getExportedPlatformPreprocessorFlags() {
+      if (exportedPlatformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedPlatformPreprocessorFlagsBuildStage == STAGE_UNINITIALIZED) {
+        exportedPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZING;
+        this.exportedPlatformPreprocessorFlags = Objects.requireNonNull(getExportedPlatformPreprocessorFlagsInitialize(), "exportedPlatformPreprocessorFlags");
+        exportedPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedPlatformPreprocessorFlags;
+    }
+
+    void setExportedPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<String>> exportedPlatformPreprocessorFlags) {
+      this.exportedPlatformPreprocessorFlags = exportedPlatformPreprocessorFlags;
+      exportedPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableList<String>> exportedPlatformLinkerFlags;
+    private int exportedPlatformLinkerFlagsBuildStage;
+
+    PatternMatchedCollection<ImmutableList<String>> getExportedPlatformLinkerFlags() {
+      if (exportedPlatformLinkerFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedPlatformLinkerFlagsBuildStage == STAGE_UNINITIALIZED) {
+        exportedPlatformLinkerFlagsBuildStage = STAGE_INITIALIZING;
+        this.exportedPlatformLinkerFlags = Objects.requireNonNull(getExportedPlatformLinkerFlagsInitialize(), "exportedPlatformLinkerFlags");
+        exportedPlatformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedPlatformLinkerFlags;
+    }
+
+    void setExportedPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<String>> exportedPlatformLinkerFlags) {
+      this.exportedPlatformLinkerFlags = exportedPlatformLinkerFlags;
+      exportedPlatformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean linkWithoutSoname;
+    private int linkWithoutSonameBuildStage;
+
+    boolean getLinkWithoutSoname() {
+      if (linkWithoutSonameBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (linkWithoutSonameBuildStage == STAGE_UNINITIALIZED) {
+        linkWithoutSonameBuildStage = STAGE_INITIALIZING;
+        this.linkWithoutSoname = getLinkWithoutSonameInitialize();
+        linkWithoutSonameBuildStage = STAGE_INITIALIZED;
+      }
+      return this.linkWithoutSoname;
+    }
+
+    void setLinkWithoutSoname(boolean linkWithoutSoname) {
+      this.linkWithoutSoname = linkWithoutSoname;
+      linkWithoutSonameBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean canBeAsset;
+    private int canBeAssetBuildStage;
+
+    boolean getCanBeAsset() {
+      if (canBeAssetBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (canBeAssetBuildStage == STAGE_UNINITIALIZED) {
+        canBeAssetBuildStage = STAGE_INITIALIZING;
+        this.canBeAsset = getCanBeAssetInitialize();
+        canBeAssetBuildStage = STAGE_INITIALIZED;
+      }
+      return this.canBeAsset;
+    }
+
+    void setCanBeAsset(boolean canBeAsset) {
+      this.canBeAsset = canBeAsset;
+      canBeAssetBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean supportsSharedLibraryInterface;
+    private int supportsSharedLibraryInterfaceBuildStage;
+
+    boolean isSupportsSharedLibraryInterface() {
+      if (supportsSharedLibraryInterfaceBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (supportsSharedLibraryInterfaceBuildStage == STAGE_UNINITIALIZED) {
+        supportsSharedLibraryInterfaceBuildStage = STAGE_INITIALIZING;
+        this.supportsSharedLibraryInterface = isSupportsSharedLibraryInterfaceInitialize();
+        supportsSharedLibraryInterfaceBuildStage = STAGE_INITIALIZED;
+      }
+      return this.supportsSharedLibraryInterface;
+    }
+
+    void setSupportsSharedLibraryInterface(boolean supportsSharedLibraryInterface) {
+      this.supportsSharedLibraryInterface = supportsSharedLibraryInterface;
+      supportsSharedLibraryInterfaceBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (headerOnlyBuildStage == STAGE_INITIALIZING) attributes.add("headerOnly");
+      if (exportedHeadersBuildStage == STAGE_INITIALIZING) attributes.add("exportedHeaders");
+      if (exportedPlatformHeadersBuildStage == STAGE_INITIALIZING) attributes.add("exportedPlatformHeaders");
+      if (providedBuildStage == STAGE_INITIALIZING) attributes.add("provided");
+      if (linkWholeBuildStage == STAGE_INITIALIZING) attributes.add("linkWhole");
+      if (forceStaticBuildStage == STAGE_INITIALIZING) attributes.add("forceStatic");
+      if (exportedPlatformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) attributes.add("exportedPlatformPreprocessorFlags");
+      if (exportedPlatformLinkerFlagsBuildStage == STAGE_INITIALIZING) attributes.add("exportedPlatformLinkerFlags");
+      if (linkWithoutSonameBuildStage == STAGE_INITIALIZING) attributes.add("linkWithoutSoname");
+      if (canBeAssetBuildStage == STAGE_INITIALIZING) attributes.add("canBeAsset");
+      if (supportsSharedLibraryInterfaceBuildStage == STAGE_INITIALIZING) attributes.add("supportsSharedLibraryInterface");
+      return "Cannot build PrebuiltCxxLibraryDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private boolean isHeaderOnlyInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.isHeaderOnly();
+  }
+
+  private SourceList getExportedHeadersInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.getExportedHeaders();
+  }
+
+  private PatternMatchedCollection<SourceList> getExportedPlatformHeadersInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.getExportedPlatformHeaders();
+  }
+
+  private boolean isProvidedInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.isProvided();
+  }
+
+  private boolean isLinkWholeInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.isLinkWhole();
+  }
+
+  private boolean isForceStaticInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.isForceStatic();
+  }
+
+  private PatternMatchedCollection<ImmutableList<String>> getExportedPlatformPreprocessorFlagsInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.getExportedPlatformPreprocessorFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableList<String>> getExportedPlatformLinkerFlagsInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.getExportedPlatformLinkerFlags();
+  }
+
+  private boolean getLinkWithoutSonameInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.getLinkWithoutSoname();
+  }
+
+  private boolean getCanBeAssetInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.getCanBeAsset();
+  }
+
+  private boolean isSupportsSharedLibraryInterfaceInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.isSupportsSharedLibraryInterface();
+  }
+
+  /**
+   * @return The value of the {@code headerDirs} attribute
+   */
+  @Override
+  public Optional<ImmutableList<SourcePath>> getHeaderDirs() {
+    return Optional.ofNullable(headerDirs);
+  }
+
+  /**
+   * @return The value of the {@code platformHeaderDirs} attribute
+   */
+  @Override
+  public Optional<PatternMatchedCollection<ImmutableList<SourcePath>>> getPlatformHeaderDirs() {
+    return Optional.ofNullable(platformHeaderDirs);
+  }
+
+  /**
+   * @return The value of the {@code versionedHeaderDirs} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<ImmutableList<SourcePath>>> getVersionedHeaderDirs() {
+    return Optional.ofNullable(versionedHeaderDirs);
+  }
+
+  /**
+   * @return The value of the {@code sharedLib} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSharedLib() {
+    return Optional.ofNullable(sharedLib);
+  }
+
+  /**
+   * @return The value of the {@code platformSharedLib} attribute
+   */
+  @Override
+  public Optional<PatternMatchedCollection<SourcePath>> getPlatformSharedLib() {
+    return Optional.ofNullable(platformSharedLib);
+  }
+
+  /**
+   * @return The value of the {@code versionedSharedLib} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<SourcePath>> getVersionedSharedLib() {
+    return Optional.ofNullable(versionedSharedLib);
+  }
+
+  /**
+   * @return The value of the {@code staticLib} attribute
+   */
+  @Override
+  public Optional<SourcePath> getStaticLib() {
+    return Optional.ofNullable(staticLib);
+  }
+
+  /**
+   * @return The value of the {@code platformStaticLib} attribute
+   */
+  @Override
+  public Optional<PatternMatchedCollection<SourcePath>> getPlatformStaticLib() {
+    return Optional.ofNullable(platformStaticLib);
+  }
+
+  /**
+   * @return The value of the {@code versionedStaticLib} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<SourcePath>> getVersionedStaticLib() {
+    return Optional.ofNullable(versionedStaticLib);
+  }
+
+  /**
+   * @return The value of the {@code staticPicLib} attribute
+   */
+  @Override
+  public Optional<SourcePath> getStaticPicLib() {
+    return Optional.ofNullable(staticPicLib);
+  }
+
+  /**
+   * @return The value of the {@code platformStaticPicLib} attribute
+   */
+  @Override
+  public Optional<PatternMatchedCollection<SourcePath>> getPlatformStaticPicLib() {
+    return Optional.ofNullable(platformStaticPicLib);
+  }
+
+  /**
+   * @return The value of the {@code versionedStaticPicLib} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<SourcePath>> getVersionedStaticPicLib() {
+    return Optional.ofNullable(versionedStaticPicLib);
+  }
+
+  /**
+   * @return The value of the {@code includeDirs} attribute
+   */
+  @Override
+  public Optional<ImmutableList<String>> getIncludeDirs() {
+    return Optional.ofNullable(includeDirs);
+  }
+
+  /**
+   * @return The value of the {@code libName} attribute
+   */
+  @Override
+  public Optional<String> getLibName() {
+    return Optional.ofNullable(libName);
+  }
+
+  /**
+   * @return The value of the {@code libDir} attribute
+   */
+  @Override
+  public Optional<String> getLibDir() {
+    return Optional.ofNullable(libDir);
+  }
+
+  /**
+   * @return The value of the {@code headerOnly} attribute
+   */
+  @Override
+  public boolean isHeaderOnly() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isHeaderOnly()
+        : this.headerOnly;
+  }
+
+  /**
+   * @return The value of the {@code exportedHeaders} attribute
+   */
+  @Override
+  public SourceList getExportedHeaders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedHeaders()
+        : this.exportedHeaders;
+  }
+
+  /**
+   * @return The value of the {@code exportedPlatformHeaders} attribute
+   */
+  @Override
+  public PatternMatchedCollection<SourceList> getExportedPlatformHeaders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedPlatformHeaders()
+        : this.exportedPlatformHeaders;
+  }
+
+  /**
+   * @return The value of the {@code headerNamespace} attribute
+   */
+  @Override
+  public Optional<String> getHeaderNamespace() {
+    return Optional.ofNullable(headerNamespace);
+  }
+
+  /**
+   * @return The value of the {@code provided} attribute
+   */
+  @Override
+  public boolean isProvided() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isProvided()
+        : this.provided;
+  }
+
+  /**
+   * @return The value of the {@code linkWhole} attribute
+   */
+  @Override
+  public boolean isLinkWhole() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isLinkWhole()
+        : this.linkWhole;
+  }
+
+  /**
+   * @return The value of the {@code forceStatic} attribute
+   */
+  @Override
+  public boolean isForceStatic() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isForceStatic()
+        : this.forceStatic;
+  }
+
+  /**
+   * @return The value of the {@code preferredLinkage} attribute
+   */
+  @Override
+  public Optional<NativeLinkable.Linkage> getPreferredLinkage() {
+    return Optional.ofNullable(preferredLinkage);
+  }
+
+  /**
+   * @return The value of the {@code exportedPreprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getExportedPreprocessorFlags() {
+    return exportedPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedPlatformPreprocessorFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<String>> getExportedPlatformPreprocessorFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedPlatformPreprocessorFlags()
+        : this.exportedPlatformPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedLangPreprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableMap<CxxSource.Type, ImmutableList<String>> getExportedLangPreprocessorFlags() {
+    return exportedLangPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedLinkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getExportedLinkerFlags() {
+    return exportedLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedPlatformLinkerFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<String>> getExportedPlatformLinkerFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedPlatformLinkerFlags()
+        : this.exportedPlatformLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code soname} attribute
+   */
+  @Override
+  public Optional<String> getSoname() {
+    return Optional.ofNullable(soname);
+  }
+
+  /**
+   * @return The value of the {@code linkWithoutSoname} attribute
+   */
+  @Override
+  public boolean getLinkWithoutSoname() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLinkWithoutSoname()
+        : this.linkWithoutSoname;
+  }
+
+  /**
+   * @return The value of the {@code canBeAsset} attribute
+   */
+  @Override
+  public boolean getCanBeAsset() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCanBeAsset()
+        : this.canBeAsset;
+  }
+
+  /**
+   * @return The value of the {@code frameworks} attribute
+   */
+  @Override
+  public ImmutableSortedSet<FrameworkPath> getFrameworks() {
+    return frameworks;
+  }
+
+  /**
+   * @return The value of the {@code libraries} attribute
+   */
+  @Override
+  public ImmutableSortedSet<FrameworkPath> getLibraries() {
+    return libraries;
+  }
+
+  /**
+   * @return The value of the {@code exportedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getExportedDeps() {
+    return exportedDeps;
+  }
+
+  /**
+   * @return The value of the {@code supportedPlatformsRegex} attribute
+   */
+  @Override
+  public Optional<Pattern> getSupportedPlatformsRegex() {
+    return Optional.ofNullable(supportedPlatformsRegex);
+  }
+
+  /**
+   * @return The value of the {@code versionedSubDir} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<String>> getVersionedSubDir() {
+    return Optional.ofNullable(versionedSubDir);
+  }
+
+  /**
+   * @return The value of the {@code supportsSharedLibraryInterface} attribute
+   */
+  @Override
+  public boolean isSupportsSharedLibraryInterface() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isSupportsSharedLibraryInterface()
+        : this.supportsSharedLibraryInterface;
+  }
+
+  /**
+   * @return The value of the {@code supportsMergedLinking} attribute
+   */
+  @Override
+  public Optional<Boolean> getSupportsMergedLinking() {
+    return Optional.ofNullable(supportsMergedLinking);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getHeaderDirs() headerDirs} attribute.
+   * @param value The value for headerDirs
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withHeaderDirs(ImmutableList<SourcePath> value) {
+    @Nullable ImmutableList<SourcePath> newValue = Objects.requireNonNull(value, "headerDirs");
+    if (this.headerDirs == newValue) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        newValue,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getHeaderDirs() headerDirs} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for headerDirs
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withHeaderDirs(Optional<? extends ImmutableList<SourcePath>> optional) {
+    @Nullable ImmutableList<SourcePath> value = optional.orElse(null);
+    if (this.headerDirs == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        value,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformHeaderDirs() platformHeaderDirs} attribute.
+   * @param value The value for platformHeaderDirs
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withPlatformHeaderDirs(PatternMatchedCollection<ImmutableList<SourcePath>> value) {
+    @Nullable PatternMatchedCollection<ImmutableList<SourcePath>> newValue = Objects.requireNonNull(value, "platformHeaderDirs");
+    if (this.platformHeaderDirs == newValue) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        newValue,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformHeaderDirs() platformHeaderDirs} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for platformHeaderDirs
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withPlatformHeaderDirs(Optional<? extends PatternMatchedCollection<ImmutableList<SourcePath>>> optional) {
+    @Nullable PatternMatchedCollection<ImmutableList<SourcePath>> value = optional.orElse(null);
+    if (this.platformHeaderDirs == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        value,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedHeaderDirs() versionedHeaderDirs} attribute.
+   * @param value The value for versionedHeaderDirs
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withVersionedHeaderDirs(VersionMatchedCollection<ImmutableList<SourcePath>> value) {
+    @Nullable VersionMatchedCollection<ImmutableList<SourcePath>> newValue = Objects.requireNonNull(value, "versionedHeaderDirs");
+    if (this.versionedHeaderDirs == newValue) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        newValue,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedHeaderDirs() versionedHeaderDirs} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for versionedHeaderDirs
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withVersionedHeaderDirs(Optional<? extends VersionMatchedCollection<ImmutableList<SourcePath>>> optional) {
+    @Nullable VersionMatchedCollection<ImmutableList<SourcePath>> value = optional.orElse(null);
+    if (this.versionedHeaderDirs == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        value,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSharedLib() sharedLib} attribute.
+   * @param value The value for sharedLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withSharedLib(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "sharedLib");
+    if (this.sharedLib == newValue) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        newValue,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSharedLib() sharedLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sharedLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withSharedLib(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.sharedLib == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        value,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformSharedLib() platformSharedLib} attribute.
+   * @param value The value for platformSharedLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withPlatformSharedLib(PatternMatchedCollection<SourcePath> value) {
+    @Nullable PatternMatchedCollection<SourcePath> newValue = Objects.requireNonNull(value, "platformSharedLib");
+    if (this.platformSharedLib == newValue) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        newValue,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformSharedLib() platformSharedLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for platformSharedLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withPlatformSharedLib(Optional<? extends PatternMatchedCollection<SourcePath>> optional) {
+    @Nullable PatternMatchedCollection<SourcePath> value = optional.orElse(null);
+    if (this.platformSharedLib == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        value,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedSharedLib() versionedSharedLib} attribute.
+   * @param value The value for versionedSharedLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withVersionedSharedLib(VersionMatchedCollection<SourcePath> value) {
+    @Nullable VersionMatchedCollection<SourcePath> newValue = Objects.requireNonNull(value, "versionedSharedLib");
+    if (this.versionedSharedLib == newValue) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        newValue,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedSharedLib() versionedSharedLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for versionedSharedLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withVersionedSharedLib(Optional<? extends VersionMatchedCollection<SourcePath>> optional) {
+    @Nullable VersionMatchedCollection<SourcePath> value = optional.orElse(null);
+    if (this.versionedSharedLib == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        value,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getStaticLib() staticLib} attribute.
+   * @param value The value for staticLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withStaticLib(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "staticLib");
+    if (this.staticLib == newValue) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        newValue,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getStaticLib() staticLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for staticLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withStaticLib(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.staticLib == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        value,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformStaticLib() platformStaticLib} attribute.
+   * @param value The value for platformStaticLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withPlatformStaticLib(PatternMatchedCollection<SourcePath> value) {
+    @Nullable PatternMatchedCollection<SourcePath> newValue = Objects.requireNonNull(value, "platformStaticLib");
+    if (this.platformStaticLib == newValue) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        newValue,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformStaticLib() platformStaticLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for platformStaticLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withPlatformStaticLib(Optional<? extends PatternMatchedCollection<SourcePath>> optional) {
+    @Nullable PatternMatchedCollection<SourcePath> value = optional.orElse(null);
+    if (this.platformStaticLib == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        value,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedStaticLib() versionedStaticLib} attribute.
+   * @param value The value for versionedStaticLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withVersionedStaticLib(VersionMatchedCollection<SourcePath> value) {
+    @Nullable VersionMatchedCollection<SourcePath> newValue = Objects.requireNonNull(value, "versionedStaticLib");
+    if (this.versionedStaticLib == newValue) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        newValue,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedStaticLib() versionedStaticLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for versionedStaticLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withVersionedStaticLib(Optional<? extends VersionMatchedCollection<SourcePath>> optional) {
+    @Nullable VersionMatchedCollection<SourcePath> value = optional.orElse(null);
+    if (this.versionedStaticLib == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        value,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getStaticPicLib() staticPicLib} attribute.
+   * @param value The value for staticPicLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withStaticPicLib(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "staticPicLib");
+    if (this.staticPicLib == newValue) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        newValue,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getStaticPicLib() staticPicLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for staticPicLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withStaticPicLib(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.staticPicLib == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        value,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformStaticPicLib() platformStaticPicLib} attribute.
+   * @param value The value for platformStaticPicLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withPlatformStaticPicLib(PatternMatchedCollection<SourcePath> value) {
+    @Nullable PatternMatchedCollection<SourcePath> newValue = Objects.requireNonNull(value, "platformStaticPicLib");
+    if (this.platformStaticPicLib == newValue) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        newValue,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformStaticPicLib() platformStaticPicLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for platformStaticPicLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withPlatformStaticPicLib(Optional<? extends PatternMatchedCollection<SourcePath>> optional) {
+    @Nullable PatternMatchedCollection<SourcePath> value = optional.orElse(null);
+    if (this.platformStaticPicLib == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        value,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedStaticPicLib() versionedStaticPicLib} attribute.
+   * @param value The value for versionedStaticPicLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withVersionedStaticPicLib(VersionMatchedCollection<SourcePath> value) {
+    @Nullable VersionMatchedCollection<SourcePath> newValue = Objects.requireNonNull(value, "versionedStaticPicLib");
+    if (this.versionedStaticPicLib == newValue) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        newValue,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedStaticPicLib() versionedStaticPicLib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for versionedStaticPicLib
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withVersionedStaticPicLib(Optional<? extends VersionMatchedCollection<SourcePath>> optional) {
+    @Nullable VersionMatchedCollection<SourcePath> value = optional.orElse(null);
+    if (this.versionedStaticPicLib == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        value,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getIncludeDirs() includeDirs} attribute.
+   * @param value The value for includeDirs
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withIncludeDirs(ImmutableList<String> value) {
+    @Nullable ImmutableList<String> newValue = Objects.requireNonNull(value, "includeDirs");
+    if (this.includeDirs == newValue) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        newValue,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getIncludeDirs() includeDirs} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for includeDirs
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withIncludeDirs(Optional<? extends ImmutableList<String>> optional) {
+    @Nullable ImmutableList<String> value = optional.orElse(null);
+    if (this.includeDirs == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        value,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibName() libName} attribute.
+   * @param value The value for libName
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withLibName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "libName");
+    if (Objects.equals(this.libName, newValue)) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        newValue,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibName() libName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for libName
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withLibName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.libName, value)) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        value,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibDir() libDir} attribute.
+   * @param value The value for libDir
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withLibDir(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "libDir");
+    if (Objects.equals(this.libDir, newValue)) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        newValue,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibDir() libDir} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for libDir
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withLibDir(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.libDir, value)) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        value,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isHeaderOnly() headerOnly} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for headerOnly
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withHeaderOnly(boolean value) {
+    if (this.headerOnly == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        value,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedHeaders() exportedHeaders} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for exportedHeaders
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withExportedHeaders(SourceList value) {
+    if (this.exportedHeaders == value) return this;
+    SourceList newValue = Objects.requireNonNull(value, "exportedHeaders");
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        newValue,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPlatformHeaders() exportedPlatformHeaders} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for exportedPlatformHeaders
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withExportedPlatformHeaders(PatternMatchedCollection<SourceList> value) {
+    if (this.exportedPlatformHeaders == value) return this;
+    PatternMatchedCollection<SourceList> newValue = Objects.requireNonNull(value, "exportedPlatformHeaders");
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        newValue,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getHeaderNamespace() headerNamespace} attribute.
+   * @param value The value for headerNamespace
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withHeaderNamespace(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "headerNamespace");
+    if (Objects.equals(this.headerNamespace, newValue)) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        newValue,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getHeaderNamespace() headerNamespace} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for headerNamespace
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withHeaderNamespace(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.headerNamespace, value)) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        value,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isProvided() provided} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for provided
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withProvided(boolean value) {
+    if (this.provided == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        value,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isLinkWhole() linkWhole} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for linkWhole
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withLinkWhole(boolean value) {
+    if (this.linkWhole == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        value,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isForceStatic() forceStatic} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for forceStatic
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withForceStatic(boolean value) {
+    if (this.forceStatic == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        value,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPreferredLinkage() preferredLinkage} attribute.
+   * @param value The value for preferredLinkage
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withPreferredLinkage(NativeLinkable.Linkage value) {
+    @Nullable NativeLinkable.Linkage newValue = Objects.requireNonNull(value, "preferredLinkage");
+    if (this.preferredLinkage == newValue) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        newValue,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPreferredLinkage() preferredLinkage} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for preferredLinkage
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withPreferredLinkage(Optional<? extends NativeLinkable.Linkage> optional) {
+    @Nullable NativeLinkable.Linkage value = optional.orElse(null);
+    if (Objects.equals(this.preferredLinkage, value)) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        value,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withExportedPreprocessorFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        newValue,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedPreprocessorFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withExportedPreprocessorFlags(Iterable<String> elements) {
+    if (this.exportedPreprocessorFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        newValue,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPlatformPreprocessorFlags() exportedPlatformPreprocessorFlags} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for exportedPlatformPreprocessorFlags
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withExportedPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<String>> value) {
+    if (this.exportedPlatformPreprocessorFlags == value) return this;
+    PatternMatchedCollection<ImmutableList<String>> newValue = Objects.requireNonNull(value, "exportedPlatformPreprocessorFlags");
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        newValue,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the exportedLangPreprocessorFlags map
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withExportedLangPreprocessorFlags(Map<? extends CxxSource.Type, ? extends ImmutableList<String>> entries) {
+    if (this.exportedLangPreprocessorFlags == entries) return this;
+    ImmutableMap<CxxSource.Type, ImmutableList<String>> newValue = ImmutableMap.copyOf(entries);
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        newValue,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withExportedLinkerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        newValue,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedLinkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withExportedLinkerFlags(Iterable<String> elements) {
+    if (this.exportedLinkerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        newValue,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPlatformLinkerFlags() exportedPlatformLinkerFlags} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for exportedPlatformLinkerFlags
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withExportedPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<String>> value) {
+    if (this.exportedPlatformLinkerFlags == value) return this;
+    PatternMatchedCollection<ImmutableList<String>> newValue = Objects.requireNonNull(value, "exportedPlatformLinkerFlags");
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        newValue,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSoname() soname} attribute.
+   * @param value The value for soname
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withSoname(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "soname");
+    if (Objects.equals(this.soname, newValue)) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        newValue,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSoname() soname} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for soname
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withSoname(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.soname, value)) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        value,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLinkWithoutSoname() linkWithoutSoname} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for linkWithoutSoname
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withLinkWithoutSoname(boolean value) {
+    if (this.linkWithoutSoname == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        value,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getCanBeAsset() canBeAsset} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for canBeAsset
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withCanBeAsset(boolean value) {
+    if (this.canBeAsset == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        value,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getFrameworks() frameworks}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withFrameworks(FrameworkPath... elements) {
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        newValue,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getFrameworks() frameworks}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of frameworks elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withFrameworks(Iterable<? extends FrameworkPath> elements) {
+    if (this.frameworks == elements) return this;
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        elements);
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        newValue,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibraries() libraries}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withLibraries(FrameworkPath... elements) {
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        newValue,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibraries() libraries}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of libraries elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withLibraries(Iterable<? extends FrameworkPath> elements) {
+    if (this.libraries == elements) return this;
+    ImmutableSortedSet<FrameworkPath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<FrameworkPath>natural(),
+        elements);
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        newValue,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedDeps() exportedDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withExportedDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        newValue,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedDeps() exportedDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withExportedDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.exportedDeps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        newValue,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} attribute.
+   * @param value The value for supportedPlatformsRegex
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withSupportedPlatformsRegex(Pattern value) {
+    @Nullable Pattern newValue = Objects.requireNonNull(value, "supportedPlatformsRegex");
+    if (this.supportedPlatformsRegex == newValue) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        newValue,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for supportedPlatformsRegex
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withSupportedPlatformsRegex(Optional<? extends Pattern> optional) {
+    @Nullable Pattern value = optional.orElse(null);
+    if (this.supportedPlatformsRegex == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        value,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedSubDir() versionedSubDir} attribute.
+   * @param value The value for versionedSubDir
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withVersionedSubDir(VersionMatchedCollection<String> value) {
+    @Nullable VersionMatchedCollection<String> newValue = Objects.requireNonNull(value, "versionedSubDir");
+    if (this.versionedSubDir == newValue) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        newValue,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedSubDir() versionedSubDir} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for versionedSubDir
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withVersionedSubDir(Optional<? extends VersionMatchedCollection<String>> optional) {
+    @Nullable VersionMatchedCollection<String> value = optional.orElse(null);
+    if (this.versionedSubDir == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        value,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isSupportsSharedLibraryInterface() supportsSharedLibraryInterface} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for supportsSharedLibraryInterface
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withSupportsSharedLibraryInterface(boolean value) {
+    if (this.supportsSharedLibraryInterface == value) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        value,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSupportsMergedLinking() supportsMergedLinking} attribute.
+   * @param value The value for supportsMergedLinking
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withSupportsMergedLinking(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.supportsMergedLinking, newValue)) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSupportsMergedLinking() supportsMergedLinking} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for supportsMergedLinking
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withSupportsMergedLinking(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.supportsMergedLinking, value)) return this;
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltCxxLibraryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new PrebuiltCxxLibraryDescriptionArg(
+        this.headerDirs,
+        this.platformHeaderDirs,
+        this.versionedHeaderDirs,
+        this.sharedLib,
+        this.platformSharedLib,
+        this.versionedSharedLib,
+        this.staticLib,
+        this.platformStaticLib,
+        this.versionedStaticLib,
+        this.staticPicLib,
+        this.platformStaticPicLib,
+        this.versionedStaticPicLib,
+        this.includeDirs,
+        this.libName,
+        this.libDir,
+        this.headerOnly,
+        this.exportedHeaders,
+        this.exportedPlatformHeaders,
+        this.headerNamespace,
+        this.provided,
+        this.linkWhole,
+        this.forceStatic,
+        this.preferredLinkage,
+        this.exportedPreprocessorFlags,
+        this.exportedPlatformPreprocessorFlags,
+        this.exportedLangPreprocessorFlags,
+        this.exportedLinkerFlags,
+        this.exportedPlatformLinkerFlags,
+        this.soname,
+        this.linkWithoutSoname,
+        this.canBeAsset,
+        this.frameworks,
+        this.libraries,
+        this.exportedDeps,
+        this.supportedPlatformsRegex,
+        this.versionedSubDir,
+        this.supportsSharedLibraryInterface,
+        this.supportsMergedLinking,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PrebuiltCxxLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PrebuiltCxxLibraryDescriptionArg
+        && equalTo((PrebuiltCxxLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(PrebuiltCxxLibraryDescriptionArg another) {
+    return Objects.equals(headerDirs, another.headerDirs)
+        && Objects.equals(platformHeaderDirs, another.platformHeaderDirs)
+        && Objects.equals(versionedHeaderDirs, another.versionedHeaderDirs)
+        && Objects.equals(sharedLib, another.sharedLib)
+        && Objects.equals(platformSharedLib, another.platformSharedLib)
+        && Objects.equals(versionedSharedLib, another.versionedSharedLib)
+        && Objects.equals(staticLib, another.staticLib)
+        && Objects.equals(platformStaticLib, another.platformStaticLib)
+        && Objects.equals(versionedStaticLib, another.versionedStaticLib)
+        && Objects.equals(staticPicLib, another.staticPicLib)
+        && Objects.equals(platformStaticPicLib, another.platformStaticPicLib)
+        && Objects.equals(versionedStaticPicLib, another.versionedStaticPicLib)
+        && Objects.equals(includeDirs, another.includeDirs)
+        && Objects.equals(libName, another.libName)
+        && Objects.equals(libDir, another.libDir)
+        && headerOnly == another.headerOnly
+        && exportedHeaders.equals(another.exportedHeaders)
+        && exportedPlatformHeaders.equals(another.exportedPlatformHeaders)
+        && Objects.equals(headerNamespace, another.headerNamespace)
+        && provided == another.provided
+        && linkWhole == another.linkWhole
+        && forceStatic == another.forceStatic
+        && Objects.equals(preferredLinkage, another.preferredLinkage)
+        && exportedPreprocessorFlags.equals(another.exportedPreprocessorFlags)
+        && exportedPlatformPreprocessorFlags.equals(another.exportedPlatformPreprocessorFlags)
+        && exportedLangPreprocessorFlags.equals(another.exportedLangPreprocessorFlags)
+        && exportedLinkerFlags.equals(another.exportedLinkerFlags)
+        && exportedPlatformLinkerFlags.equals(another.exportedPlatformLinkerFlags)
+        && Objects.equals(soname, another.soname)
+        && linkWithoutSoname == another.linkWithoutSoname
+        && canBeAsset == another.canBeAsset
+        && frameworks.equals(another.frameworks)
+        && libraries.equals(another.libraries)
+        && exportedDeps.equals(another.exportedDeps)
+        && Objects.equals(supportedPlatformsRegex, another.supportedPlatformsRegex)
+        && Objects.equals(versionedSubDir, another.versionedSubDir)
+        && supportsSharedLibraryInterface == another.supportsSharedLibraryInterface
+        && Objects.equals(supportsMergedLinking, another.supportsMergedLinking)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code headerDirs}, {@code platformHeaderDirs}, {@code versionedHeaderDirs}, {@code sharedLib}, {@code platformSharedLib}, {@code versionedSharedLib}, {@code staticLib}, {@code platformStaticLib}, {@code versionedStaticLib}, {@code staticPicLib}, {@code platformStaticPicLib}, {@code versionedStaticPicLib}, {@code includeDirs}, {@code libName}, {@code libDir}, {@code headerOnly}, {@code exportedHeaders}, {@code exportedPlatformHeaders}, {@code headerNamespace}, {@code provided}, {@code linkWhole}, {@code forceStatic}, {@code preferredLinkage}, {@code exportedPreprocessorFlags}, {@code exportedPlatformPreprocessorFlags}, {@code exportedLangPreprocessorFlags}, {@code exportedLinkerFlags}, {@code exportedPlatformLinkerFlags}, {@code soname}, {@code linkWithoutSoname}, {@code canBeAsset}, {@code frameworks}, {@code libraries}, {@code exportedDeps}, {@code supportedPlatformsRegex}, {@code versionedSubDir}, {@code supportsSharedLibraryInterface}, {@code supportsMergedLinking}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(headerDirs);
+    h += (h << 5) + Objects.hashCode(platformHeaderDirs);
+    h += (h << 5) + Objects.hashCode(versionedHeaderDirs);
+    h += (h << 5) + Objects.hashCode(sharedLib);
+    h += (h << 5) + Objects.hashCode(platformSharedLib);
+    h += (h << 5) + Objects.hashCode(versionedSharedLib);
+    h += (h << 5) + Objects.hashCode(staticLib);
+    h += (h << 5) + Objects.hashCode(platformStaticLib);
+    h += (h << 5) + Objects.hashCode(versionedStaticLib);
+    h += (h << 5) + Objects.hashCode(staticPicLib);
+    h += (h << 5) + Objects.hashCode(platformStaticPicLib);
+    h += (h << 5) + Objects.hashCode(versionedStaticPicLib);
+    h += (h << 5) + Objects.hashCode(includeDirs);
+    h += (h << 5) + Objects.hashCode(libName);
+    h += (h << 5) + Objects.hashCode(libDir);
+    h += (h << 5) + Booleans.hashCode(headerOnly);
+    h += (h << 5) + exportedHeaders.hashCode();
+    h += (h << 5) + exportedPlatformHeaders.hashCode();
+    h += (h << 5) + Objects.hashCode(headerNamespace);
+    h += (h << 5) + Booleans.hashCode(provided);
+    h += (h << 5) + Booleans.hashCode(linkWhole);
+    h += (h << 5) + Booleans.hashCode(forceStatic);
+    h += (h << 5) + Objects.hashCode(preferredLinkage);
+    h += (h << 5) + exportedPreprocessorFlags.hashCode();
+    h += (h << 5) + exportedPlatformPreprocessorFlags.hashCode();
+    h += (h << 5) + exportedLangPreprocessorFlags.hashCode();
+    h += (h << 5) + exportedLinkerFlags.hashCode();
+    h += (h << 5) + exportedPlatformLinkerFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(soname);
+    h += (h << 5) + Booleans.hashCode(linkWithoutSoname);
+    h += (h << 5) + Booleans.hashCode(canBeAsset);
+    h += (h << 5) + frameworks.hashCode();
+    h += (h << 5) + libraries.hashCode();
+    h += (h << 5) + exportedDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(supportedPlatformsRegex);
+    h += (h << 5) + Objects.hashCode(versionedSubDir);
+    h += (h << 5) + Booleans.hashCode(supportsSharedLibraryInterface);
+    h += (h << 5) + Objects.hashCode(supportsMergedLinking);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PrebuiltCxxLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PrebuiltCxxLibraryDescriptionArg")
+        .omitNullValues()
+        .add("headerDirs", headerDirs)
+        .add("platformHeaderDirs", platformHeaderDirs)
+        .add("versionedHeaderDirs", versionedHeaderDirs)
+        .add("sharedLib", sharedLib)
+        .add("platformSharedLib", platformSharedLib)
+        .add("versionedSharedLib", versionedSharedLib)
+        .add("staticLib", staticLib)
+        .add("platformStaticLib", platformStaticLib)
+        .add("versionedStaticLib", versionedStaticLib)
+        .add("staticPicLib", staticPicLib)
+        .add("platformStaticPicLib", platformStaticPicLib)
+        .add("versionedStaticPicLib", versionedStaticPicLib)
+        .add("includeDirs", includeDirs)
+        .add("libName", libName)
+        .add("libDir", libDir)
+        .add("headerOnly", headerOnly)
+        .add("exportedHeaders", exportedHeaders)
+        .add("exportedPlatformHeaders", exportedPlatformHeaders)
+        .add("headerNamespace", headerNamespace)
+        .add("provided", provided)
+        .add("linkWhole", linkWhole)
+        .add("forceStatic", forceStatic)
+        .add("preferredLinkage", preferredLinkage)
+        .add("exportedPreprocessorFlags", exportedPreprocessorFlags)
+        .add("exportedPlatformPreprocessorFlags", exportedPlatformPreprocessorFlags)
+        .add("exportedLangPreprocessorFlags", exportedLangPreprocessorFlags)
+        .add("exportedLinkerFlags", exportedLinkerFlags)
+        .add("exportedPlatformLinkerFlags", exportedPlatformLinkerFlags)
+        .add("soname", soname)
+        .add("linkWithoutSoname", linkWithoutSoname)
+        .add("canBeAsset", canBeAsset)
+        .add("frameworks", frameworks)
+        .add("libraries", libraries)
+        .add("exportedDeps", exportedDeps)
+        .add("supportedPlatformsRegex", supportedPlatformsRegex)
+        .add("versionedSubDir", versionedSubDir)
+        .add("supportsSharedLibraryInterface", supportsSharedLibraryInterface)
+        .add("supportsMergedLinking", supportsMergedLinking)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PrebuiltCxxLibraryDescriptionArg instance
+   */
+  static PrebuiltCxxLibraryDescriptionArg copyOf(PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg instance) {
+    if (instance instanceof PrebuiltCxxLibraryDescriptionArg) {
+      return (PrebuiltCxxLibraryDescriptionArg) instance;
+    }
+    return PrebuiltCxxLibraryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PrebuiltCxxLibraryDescriptionArg PrebuiltCxxLibraryDescriptionArg}.
+   * @return A new PrebuiltCxxLibraryDescriptionArg builder
+   */
+  public static PrebuiltCxxLibraryDescriptionArg.Builder builder() {
+    return new PrebuiltCxxLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PrebuiltCxxLibraryDescriptionArg PrebuiltCxxLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_HEADER_ONLY = 0x1L;
+    private static final long OPT_BIT_PROVIDED = 0x2L;
+    private static final long OPT_BIT_LINK_WHOLE = 0x4L;
+    private static final long OPT_BIT_FORCE_STATIC = 0x8L;
+    private static final long OPT_BIT_LINK_WITHOUT_SONAME = 0x10L;
+    private static final long OPT_BIT_CAN_BE_ASSET = 0x20L;
+    private static final long OPT_BIT_SUPPORTS_SHARED_LIBRARY_INTERFACE = 0x40L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable ImmutableList<SourcePath> headerDirs;
+    private @Nullable PatternMatchedCollection<ImmutableList<SourcePath>> platformHeaderDirs;
+    private @Nullable VersionMatchedCollection<ImmutableList<SourcePath>> versionedHeaderDirs;
+    private @Nullable SourcePath sharedLib;
+    private @Nullable PatternMatchedCollection<SourcePath> platformSharedLib;
+    private @Nullable VersionMatchedCollection<SourcePath> versionedSharedLib;
+    private @Nullable SourcePath staticLib;
+    private @Nullable PatternMatchedCollection<SourcePath> platformStaticLib;
+    private @Nullable VersionMatchedCollection<SourcePath> versionedStaticLib;
+    private @Nullable SourcePath staticPicLib;
+    private @Nullable PatternMatchedCollection<SourcePath> platformStaticPicLib;
+    private @Nullable VersionMatchedCollection<SourcePath> versionedStaticPicLib;
+    private @Nullable ImmutableList<String> includeDirs;
+    private @Nullable String libName;
+    private @Nullable String libDir;
+    private boolean headerOnly;
+    private @Nullable SourceList exportedHeaders;
+    private @Nullable PatternMatchedCollection<SourceList> exportedPlatformHeaders;
+    private @Nullable String headerNamespace;
+    private boolean provided;
+    private boolean linkWhole;
+    private boolean forceStatic;
+    private @Nullable NativeLinkable.Linkage preferredLinkage;
+    private ImmutableList.Builder<String> exportedPreprocessorFlags = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<String>> exportedPlatformPreprocessorFlags;
+    private ImmutableMap.Builder<CxxSource.Type, ImmutableList<String>> exportedLangPreprocessorFlags = ImmutableMap.builder();
+    private ImmutableList.Builder<String> exportedLinkerFlags = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<String>> exportedPlatformLinkerFlags;
+    private @Nullable String soname;
+    private boolean linkWithoutSoname;
+    private boolean canBeAsset;
+    private ImmutableSortedSet.Builder<FrameworkPath> frameworks = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<FrameworkPath> libraries = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> exportedDeps = ImmutableSortedSet.naturalOrder();
+    private @Nullable Pattern supportedPlatformsRegex;
+    private @Nullable VersionMatchedCollection<String> versionedSubDir;
+    private boolean supportsSharedLibraryInterface;
+    private @Nullable Boolean supportsMergedLinking;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PrebuiltCxxLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PrebuiltCxxLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPrebuiltCxxLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg) {
+        PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg instance = (PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg) object;
+        putAllExportedLangPreprocessorFlags(instance.getExportedLangPreprocessorFlags());
+        setSupportsSharedLibraryInterface(instance.isSupportsSharedLibraryInterface());
+        setHeaderOnly(instance.isHeaderOnly());
+        addAllFrameworks(instance.getFrameworks());
+        Optional<PatternMatchedCollection<ImmutableList<SourcePath>>> platformHeaderDirsOptional = instance.getPlatformHeaderDirs();
+        if (platformHeaderDirsOptional.isPresent()) {
+          setPlatformHeaderDirs(platformHeaderDirsOptional);
+        }
+        Optional<VersionMatchedCollection<ImmutableList<SourcePath>>> versionedHeaderDirsOptional = instance.getVersionedHeaderDirs();
+        if (versionedHeaderDirsOptional.isPresent()) {
+          setVersionedHeaderDirs(versionedHeaderDirsOptional);
+        }
+        setProvided(instance.isProvided());
+        Optional<String> libDirOptional = instance.getLibDir();
+        if (libDirOptional.isPresent()) {
+          setLibDir(libDirOptional);
+        }
+        setExportedPlatformHeaders(instance.getExportedPlatformHeaders());
+        Optional<SourcePath> staticPicLibOptional = instance.getStaticPicLib();
+        if (staticPicLibOptional.isPresent()) {
+          setStaticPicLib(staticPicLibOptional);
+        }
+        Optional<ImmutableList<String>> includeDirsOptional = instance.getIncludeDirs();
+        if (includeDirsOptional.isPresent()) {
+          setIncludeDirs(includeDirsOptional);
+        }
+        Optional<VersionMatchedCollection<SourcePath>> versionedStaticPicLibOptional = instance.getVersionedStaticPicLib();
+        if (versionedStaticPicLibOptional.isPresent()) {
+          setVersionedStaticPicLib(versionedStaticPicLibOptional);
+        }
+        Optional<VersionMatchedCollection<SourcePath>> versionedSharedLibOptional = instance.getVersionedSharedLib();
+        if (versionedSharedLibOptional.isPresent()) {
+          setVersionedSharedLib(versionedSharedLibOptional);
+        }
+        Optional<PatternMatchedCollection<SourcePath>> platformStaticPicLibOptional = instance.getPlatformStaticPicLib();
+        if (platformStaticPicLibOptional.isPresent()) {
+          setPlatformStaticPicLib(platformStaticPicLibOptional);
+        }
+        setLinkWithoutSoname(instance.getLinkWithoutSoname());
+        Optional<VersionMatchedCollection<String>> versionedSubDirOptional = instance.getVersionedSubDir();
+        if (versionedSubDirOptional.isPresent()) {
+          setVersionedSubDir(versionedSubDirOptional);
+        }
+        Optional<SourcePath> sharedLibOptional = instance.getSharedLib();
+        if (sharedLibOptional.isPresent()) {
+          setSharedLib(sharedLibOptional);
+        }
+        addAllExportedDeps(instance.getExportedDeps());
+        Optional<SourcePath> staticLibOptional = instance.getStaticLib();
+        if (staticLibOptional.isPresent()) {
+          setStaticLib(staticLibOptional);
+        }
+        Optional<NativeLinkable.Linkage> preferredLinkageOptional = instance.getPreferredLinkage();
+        if (preferredLinkageOptional.isPresent()) {
+          setPreferredLinkage(preferredLinkageOptional);
+        }
+        Optional<ImmutableList<SourcePath>> headerDirsOptional = instance.getHeaderDirs();
+        if (headerDirsOptional.isPresent()) {
+          setHeaderDirs(headerDirsOptional);
+        }
+        setLinkWhole(instance.isLinkWhole());
+        setExportedPlatformPreprocessorFlags(instance.getExportedPlatformPreprocessorFlags());
+        setExportedHeaders(instance.getExportedHeaders());
+        Optional<String> libNameOptional = instance.getLibName();
+        if (libNameOptional.isPresent()) {
+          setLibName(libNameOptional);
+        }
+        addAllExportedLinkerFlags(instance.getExportedLinkerFlags());
+        addAllLibraries(instance.getLibraries());
+        setCanBeAsset(instance.getCanBeAsset());
+        setExportedPlatformLinkerFlags(instance.getExportedPlatformLinkerFlags());
+        Optional<String> sonameOptional = instance.getSoname();
+        if (sonameOptional.isPresent()) {
+          setSoname(sonameOptional);
+        }
+        Optional<VersionMatchedCollection<SourcePath>> versionedStaticLibOptional = instance.getVersionedStaticLib();
+        if (versionedStaticLibOptional.isPresent()) {
+          setVersionedStaticLib(versionedStaticLibOptional);
+        }
+        Optional<Boolean> supportsMergedLinkingOptional = instance.getSupportsMergedLinking();
+        if (supportsMergedLinkingOptional.isPresent()) {
+          setSupportsMergedLinking(supportsMergedLinkingOptional);
+        }
+        Optional<PatternMatchedCollection<SourcePath>> platformSharedLibOptional = instance.getPlatformSharedLib();
+        if (platformSharedLibOptional.isPresent()) {
+          setPlatformSharedLib(platformSharedLibOptional);
+        }
+        Optional<Pattern> supportedPlatformsRegexOptional = instance.getSupportedPlatformsRegex();
+        if (supportedPlatformsRegexOptional.isPresent()) {
+          setSupportedPlatformsRegex(supportedPlatformsRegexOptional);
+        }
+        setForceStatic(instance.isForceStatic());
+        Optional<PatternMatchedCollection<SourcePath>> platformStaticLibOptional = instance.getPlatformStaticLib();
+        if (platformStaticLibOptional.isPresent()) {
+          setPlatformStaticLib(platformStaticLibOptional);
+        }
+        Optional<String> headerNamespaceOptional = instance.getHeaderNamespace();
+        if (headerNamespaceOptional.isPresent()) {
+          setHeaderNamespace(headerNamespaceOptional);
+        }
+        addAllExportedPreprocessorFlags(instance.getExportedPreprocessorFlags());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getHeaderDirs() headerDirs} to headerDirs.
+     * @param headerDirs The value for headerDirs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setHeaderDirs(ImmutableList<SourcePath> headerDirs) {
+      this.headerDirs = Objects.requireNonNull(headerDirs, "headerDirs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getHeaderDirs() headerDirs} to headerDirs.
+     * @param headerDirs The value for headerDirs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHeaderDirs(Optional<? extends ImmutableList<SourcePath>> headerDirs) {
+      this.headerDirs = headerDirs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformHeaderDirs() platformHeaderDirs} to platformHeaderDirs.
+     * @param platformHeaderDirs The value for platformHeaderDirs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPlatformHeaderDirs(PatternMatchedCollection<ImmutableList<SourcePath>> platformHeaderDirs) {
+      this.platformHeaderDirs = Objects.requireNonNull(platformHeaderDirs, "platformHeaderDirs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformHeaderDirs() platformHeaderDirs} to platformHeaderDirs.
+     * @param platformHeaderDirs The value for platformHeaderDirs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformHeaderDirs(Optional<? extends PatternMatchedCollection<ImmutableList<SourcePath>>> platformHeaderDirs) {
+      this.platformHeaderDirs = platformHeaderDirs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedHeaderDirs() versionedHeaderDirs} to versionedHeaderDirs.
+     * @param versionedHeaderDirs The value for versionedHeaderDirs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionedHeaderDirs(VersionMatchedCollection<ImmutableList<SourcePath>> versionedHeaderDirs) {
+      this.versionedHeaderDirs = Objects.requireNonNull(versionedHeaderDirs, "versionedHeaderDirs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedHeaderDirs() versionedHeaderDirs} to versionedHeaderDirs.
+     * @param versionedHeaderDirs The value for versionedHeaderDirs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionedHeaderDirs(Optional<? extends VersionMatchedCollection<ImmutableList<SourcePath>>> versionedHeaderDirs) {
+      this.versionedHeaderDirs = versionedHeaderDirs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSharedLib() sharedLib} to sharedLib.
+     * @param sharedLib The value for sharedLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSharedLib(SourcePath sharedLib) {
+      this.sharedLib = Objects.requireNonNull(sharedLib, "sharedLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSharedLib() sharedLib} to sharedLib.
+     * @param sharedLib The value for sharedLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSharedLib(Optional<? extends SourcePath> sharedLib) {
+      this.sharedLib = sharedLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformSharedLib() platformSharedLib} to platformSharedLib.
+     * @param platformSharedLib The value for platformSharedLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPlatformSharedLib(PatternMatchedCollection<SourcePath> platformSharedLib) {
+      this.platformSharedLib = Objects.requireNonNull(platformSharedLib, "platformSharedLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformSharedLib() platformSharedLib} to platformSharedLib.
+     * @param platformSharedLib The value for platformSharedLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformSharedLib(Optional<? extends PatternMatchedCollection<SourcePath>> platformSharedLib) {
+      this.platformSharedLib = platformSharedLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedSharedLib() versionedSharedLib} to versionedSharedLib.
+     * @param versionedSharedLib The value for versionedSharedLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionedSharedLib(VersionMatchedCollection<SourcePath> versionedSharedLib) {
+      this.versionedSharedLib = Objects.requireNonNull(versionedSharedLib, "versionedSharedLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedSharedLib() versionedSharedLib} to versionedSharedLib.
+     * @param versionedSharedLib The value for versionedSharedLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionedSharedLib(Optional<? extends VersionMatchedCollection<SourcePath>> versionedSharedLib) {
+      this.versionedSharedLib = versionedSharedLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getStaticLib() staticLib} to staticLib.
+     * @param staticLib The value for staticLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStaticLib(SourcePath staticLib) {
+      this.staticLib = Objects.requireNonNull(staticLib, "staticLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getStaticLib() staticLib} to staticLib.
+     * @param staticLib The value for staticLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStaticLib(Optional<? extends SourcePath> staticLib) {
+      this.staticLib = staticLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformStaticLib() platformStaticLib} to platformStaticLib.
+     * @param platformStaticLib The value for platformStaticLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPlatformStaticLib(PatternMatchedCollection<SourcePath> platformStaticLib) {
+      this.platformStaticLib = Objects.requireNonNull(platformStaticLib, "platformStaticLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformStaticLib() platformStaticLib} to platformStaticLib.
+     * @param platformStaticLib The value for platformStaticLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformStaticLib(Optional<? extends PatternMatchedCollection<SourcePath>> platformStaticLib) {
+      this.platformStaticLib = platformStaticLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedStaticLib() versionedStaticLib} to versionedStaticLib.
+     * @param versionedStaticLib The value for versionedStaticLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionedStaticLib(VersionMatchedCollection<SourcePath> versionedStaticLib) {
+      this.versionedStaticLib = Objects.requireNonNull(versionedStaticLib, "versionedStaticLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedStaticLib() versionedStaticLib} to versionedStaticLib.
+     * @param versionedStaticLib The value for versionedStaticLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionedStaticLib(Optional<? extends VersionMatchedCollection<SourcePath>> versionedStaticLib) {
+      this.versionedStaticLib = versionedStaticLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getStaticPicLib() staticPicLib} to staticPicLib.
+     * @param staticPicLib The value for staticPicLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStaticPicLib(SourcePath staticPicLib) {
+      this.staticPicLib = Objects.requireNonNull(staticPicLib, "staticPicLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getStaticPicLib() staticPicLib} to staticPicLib.
+     * @param staticPicLib The value for staticPicLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStaticPicLib(Optional<? extends SourcePath> staticPicLib) {
+      this.staticPicLib = staticPicLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformStaticPicLib() platformStaticPicLib} to platformStaticPicLib.
+     * @param platformStaticPicLib The value for platformStaticPicLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPlatformStaticPicLib(PatternMatchedCollection<SourcePath> platformStaticPicLib) {
+      this.platformStaticPicLib = Objects.requireNonNull(platformStaticPicLib, "platformStaticPicLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformStaticPicLib() platformStaticPicLib} to platformStaticPicLib.
+     * @param platformStaticPicLib The value for platformStaticPicLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformStaticPicLib(Optional<? extends PatternMatchedCollection<SourcePath>> platformStaticPicLib) {
+      this.platformStaticPicLib = platformStaticPicLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedStaticPicLib() versionedStaticPicLib} to versionedStaticPicLib.
+     * @param versionedStaticPicLib The value for versionedStaticPicLib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionedStaticPicLib(VersionMatchedCollection<SourcePath> versionedStaticPicLib) {
+      this.versionedStaticPicLib = Objects.requireNonNull(versionedStaticPicLib, "versionedStaticPicLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedStaticPicLib() versionedStaticPicLib} to versionedStaticPicLib.
+     * @param versionedStaticPicLib The value for versionedStaticPicLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionedStaticPicLib(Optional<? extends VersionMatchedCollection<SourcePath>> versionedStaticPicLib) {
+      this.versionedStaticPicLib = versionedStaticPicLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getIncludeDirs() includeDirs} to includeDirs.
+     * @param includeDirs The value for includeDirs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setIncludeDirs(ImmutableList<String> includeDirs) {
+      this.includeDirs = Objects.requireNonNull(includeDirs, "includeDirs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getIncludeDirs() includeDirs} to includeDirs.
+     * @param includeDirs The value for includeDirs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludeDirs(Optional<? extends ImmutableList<String>> includeDirs) {
+      this.includeDirs = includeDirs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibName() libName} to libName.
+     * @param libName The value for libName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLibName(String libName) {
+      this.libName = Objects.requireNonNull(libName, "libName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibName() libName} to libName.
+     * @param libName The value for libName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLibName(Optional<String> libName) {
+      this.libName = libName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibDir() libDir} to libDir.
+     * @param libDir The value for libDir
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLibDir(String libDir) {
+      this.libDir = Objects.requireNonNull(libDir, "libDir");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibDir() libDir} to libDir.
+     * @param libDir The value for libDir
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLibDir(Optional<String> libDir) {
+      this.libDir = libDir.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isHeaderOnly() headerOnly} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isHeaderOnly() headerOnly}.</em>
+     * @param headerOnly The value for headerOnly 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHeaderOnly(boolean headerOnly) {
+      this.headerOnly = headerOnly;
+      optBits |= OPT_BIT_HEADER_ONLY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedHeaders() exportedHeaders} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedHeaders() exportedHeaders}.</em>
+     * @param exportedHeaders The value for exportedHeaders 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedHeaders(SourceList exportedHeaders) {
+      this.exportedHeaders = Objects.requireNonNull(exportedHeaders, "exportedHeaders");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPlatformHeaders() exportedPlatformHeaders} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPlatformHeaders() exportedPlatformHeaders}.</em>
+     * @param exportedPlatformHeaders The value for exportedPlatformHeaders 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedPlatformHeaders(PatternMatchedCollection<SourceList> exportedPlatformHeaders) {
+      this.exportedPlatformHeaders = Objects.requireNonNull(exportedPlatformHeaders, "exportedPlatformHeaders");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getHeaderNamespace() headerNamespace} to headerNamespace.
+     * @param headerNamespace The value for headerNamespace
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setHeaderNamespace(String headerNamespace) {
+      this.headerNamespace = Objects.requireNonNull(headerNamespace, "headerNamespace");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getHeaderNamespace() headerNamespace} to headerNamespace.
+     * @param headerNamespace The value for headerNamespace
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHeaderNamespace(Optional<String> headerNamespace) {
+      this.headerNamespace = headerNamespace.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isProvided() provided} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isProvided() provided}.</em>
+     * @param provided The value for provided 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProvided(boolean provided) {
+      this.provided = provided;
+      optBits |= OPT_BIT_PROVIDED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isLinkWhole() linkWhole} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isLinkWhole() linkWhole}.</em>
+     * @param linkWhole The value for linkWhole 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkWhole(boolean linkWhole) {
+      this.linkWhole = linkWhole;
+      optBits |= OPT_BIT_LINK_WHOLE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isForceStatic() forceStatic} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isForceStatic() forceStatic}.</em>
+     * @param forceStatic The value for forceStatic 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setForceStatic(boolean forceStatic) {
+      this.forceStatic = forceStatic;
+      optBits |= OPT_BIT_FORCE_STATIC;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPreferredLinkage() preferredLinkage} to preferredLinkage.
+     * @param preferredLinkage The value for preferredLinkage
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPreferredLinkage(NativeLinkable.Linkage preferredLinkage) {
+      this.preferredLinkage = Objects.requireNonNull(preferredLinkage, "preferredLinkage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPreferredLinkage() preferredLinkage} to preferredLinkage.
+     * @param preferredLinkage The value for preferredLinkage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPreferredLinkage(Optional<? extends NativeLinkable.Linkage> preferredLinkage) {
+      this.preferredLinkage = preferredLinkage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param element A exportedPreprocessorFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedPreprocessorFlags(String element) {
+      this.exportedPreprocessorFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An array of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedPreprocessorFlags(String... elements) {
+      this.exportedPreprocessorFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An iterable of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedPreprocessorFlags(Iterable<String> elements) {
+      this.exportedPreprocessorFlags = ImmutableList.builder();
+      return addAllExportedPreprocessorFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An iterable of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExportedPreprocessorFlags(Iterable<String> elements) {
+      this.exportedPreprocessorFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPlatformPreprocessorFlags() exportedPlatformPreprocessorFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPlatformPreprocessorFlags() exportedPlatformPreprocessorFlags}.</em>
+     * @param exportedPlatformPreprocessorFlags The value for exportedPlatformPreprocessorFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<String>> exportedPlatformPreprocessorFlags) {
+      this.exportedPlatformPreprocessorFlags = Objects.requireNonNull(exportedPlatformPreprocessorFlags, "exportedPlatformPreprocessorFlags");
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map.
+     * @param key The key in the exportedLangPreprocessorFlags map
+     * @param value The associated value in the exportedLangPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putExportedLangPreprocessorFlags(CxxSource.Type key, ImmutableList<String> value) {
+      this.exportedLangPreprocessorFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putExportedLangPreprocessorFlags(Map.Entry<? extends CxxSource.Type, ? extends ImmutableList<String>> entry) {
+      this.exportedLangPreprocessorFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map. Nulls are not permitted
+     * @param exportedLangPreprocessorFlags The entries that will be added to the exportedLangPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedLangPreprocessorFlags(Map<? extends CxxSource.Type, ? extends ImmutableList<String>> exportedLangPreprocessorFlags) {
+      this.exportedLangPreprocessorFlags = ImmutableMap.builder();
+      return putAllExportedLangPreprocessorFlags(exportedLangPreprocessorFlags);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map. Nulls are not permitted
+     * @param exportedLangPreprocessorFlags The entries that will be added to the exportedLangPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllExportedLangPreprocessorFlags(Map<? extends CxxSource.Type, ? extends ImmutableList<String>> exportedLangPreprocessorFlags) {
+      this.exportedLangPreprocessorFlags.putAll(exportedLangPreprocessorFlags);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param element A exportedLinkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedLinkerFlags(String element) {
+      this.exportedLinkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An array of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedLinkerFlags(String... elements) {
+      this.exportedLinkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An iterable of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedLinkerFlags(Iterable<String> elements) {
+      this.exportedLinkerFlags = ImmutableList.builder();
+      return addAllExportedLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An iterable of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExportedLinkerFlags(Iterable<String> elements) {
+      this.exportedLinkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPlatformLinkerFlags() exportedPlatformLinkerFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPlatformLinkerFlags() exportedPlatformLinkerFlags}.</em>
+     * @param exportedPlatformLinkerFlags The value for exportedPlatformLinkerFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<String>> exportedPlatformLinkerFlags) {
+      this.exportedPlatformLinkerFlags = Objects.requireNonNull(exportedPlatformLinkerFlags, "exportedPlatformLinkerFlags");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSoname() soname} to soname.
+     * @param soname The value for soname
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSoname(String soname) {
+      this.soname = Objects.requireNonNull(soname, "soname");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSoname() soname} to soname.
+     * @param soname The value for soname
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSoname(Optional<String> soname) {
+      this.soname = soname.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLinkWithoutSoname() linkWithoutSoname} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLinkWithoutSoname() linkWithoutSoname}.</em>
+     * @param linkWithoutSoname The value for linkWithoutSoname 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkWithoutSoname(boolean linkWithoutSoname) {
+      this.linkWithoutSoname = linkWithoutSoname;
+      optBits |= OPT_BIT_LINK_WITHOUT_SONAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getCanBeAsset() canBeAsset} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getCanBeAsset() canBeAsset}.</em>
+     * @param canBeAsset The value for canBeAsset 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCanBeAsset(boolean canBeAsset) {
+      this.canBeAsset = canBeAsset;
+      optBits |= OPT_BIT_CAN_BE_ASSET;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param element A frameworks element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFrameworks(FrameworkPath element) {
+      this.frameworks.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An array of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFrameworks(FrameworkPath... elements) {
+      this.frameworks.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks = ImmutableSortedSet.naturalOrder();
+      return addAllFrameworks(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param element A libraries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLibraries(FrameworkPath element) {
+      this.libraries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An array of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLibraries(FrameworkPath... elements) {
+      this.libraries.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries = ImmutableSortedSet.naturalOrder();
+      return addAllLibraries(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param element A exportedDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedDeps(BuildTarget element) {
+      this.exportedDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An array of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedDeps(BuildTarget... elements) {
+      this.exportedDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps = ImmutableSortedSet.naturalOrder();
+      return addAllExportedDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} to supportedPlatformsRegex.
+     * @param supportedPlatformsRegex The value for supportedPlatformsRegex
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSupportedPlatformsRegex(Pattern supportedPlatformsRegex) {
+      this.supportedPlatformsRegex = Objects.requireNonNull(supportedPlatformsRegex, "supportedPlatformsRegex");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} to supportedPlatformsRegex.
+     * @param supportedPlatformsRegex The value for supportedPlatformsRegex
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSupportedPlatformsRegex(Optional<? extends Pattern> supportedPlatformsRegex) {
+      this.supportedPlatformsRegex = supportedPlatformsRegex.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedSubDir() versionedSubDir} to versionedSubDir.
+     * @param versionedSubDir The value for versionedSubDir
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionedSubDir(VersionMatchedCollection<String> versionedSubDir) {
+      this.versionedSubDir = Objects.requireNonNull(versionedSubDir, "versionedSubDir");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedSubDir() versionedSubDir} to versionedSubDir.
+     * @param versionedSubDir The value for versionedSubDir
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionedSubDir(Optional<? extends VersionMatchedCollection<String>> versionedSubDir) {
+      this.versionedSubDir = versionedSubDir.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isSupportsSharedLibraryInterface() supportsSharedLibraryInterface} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isSupportsSharedLibraryInterface() supportsSharedLibraryInterface}.</em>
+     * @param supportsSharedLibraryInterface The value for supportsSharedLibraryInterface 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSupportsSharedLibraryInterface(boolean supportsSharedLibraryInterface) {
+      this.supportsSharedLibraryInterface = supportsSharedLibraryInterface;
+      optBits |= OPT_BIT_SUPPORTS_SHARED_LIBRARY_INTERFACE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSupportsMergedLinking() supportsMergedLinking} to supportsMergedLinking.
+     * @param supportsMergedLinking The value for supportsMergedLinking
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSupportsMergedLinking(boolean supportsMergedLinking) {
+      this.supportsMergedLinking = supportsMergedLinking;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSupportsMergedLinking() supportsMergedLinking} to supportsMergedLinking.
+     * @param supportsMergedLinking The value for supportsMergedLinking
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSupportsMergedLinking(Optional<Boolean> supportsMergedLinking) {
+      this.supportsMergedLinking = supportsMergedLinking.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PrebuiltCxxLibraryDescriptionArg PrebuiltCxxLibraryDescriptionArg}.
+     * @return An immutable instance of PrebuiltCxxLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PrebuiltCxxLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PrebuiltCxxLibraryDescriptionArg(this);
+    }
+
+    private boolean headerOnlyIsSet() {
+      return (optBits & OPT_BIT_HEADER_ONLY) != 0;
+    }
+
+    private boolean providedIsSet() {
+      return (optBits & OPT_BIT_PROVIDED) != 0;
+    }
+
+    private boolean linkWholeIsSet() {
+      return (optBits & OPT_BIT_LINK_WHOLE) != 0;
+    }
+
+    private boolean forceStaticIsSet() {
+      return (optBits & OPT_BIT_FORCE_STATIC) != 0;
+    }
+
+    private boolean linkWithoutSonameIsSet() {
+      return (optBits & OPT_BIT_LINK_WITHOUT_SONAME) != 0;
+    }
+
+    private boolean canBeAssetIsSet() {
+      return (optBits & OPT_BIT_CAN_BE_ASSET) != 0;
+    }
+
+    private boolean supportsSharedLibraryInterfaceIsSet() {
+      return (optBits & OPT_BIT_SUPPORTS_SHARED_LIBRARY_INTERFACE) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build PrebuiltCxxLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,180 @@
+package com.facebook.buck.doctor;
+
+import com.google.common.base.MoreObjects;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Information helpful when diagnosing 'buck is not picking up changes' reports. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "DefectReporter.AbstractFileChangesIgnoredReport"})
+@Immutable
+public final class FileChangesIgnoredReport
+    implements DefectReporter.AbstractFileChangesIgnoredReport {
+  private final @Nullable Path watchmanDiagReport;
+
+  private FileChangesIgnoredReport(@Nullable Path watchmanDiagReport) {
+    this.watchmanDiagReport = watchmanDiagReport;
+  }
+
+  /**
+   * @return The value of the {@code watchmanDiagReport} attribute
+   */
+  @Override
+  public Optional<Path> getWatchmanDiagReport() {
+    return Optional.ofNullable(watchmanDiagReport);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link DefectReporter.AbstractFileChangesIgnoredReport#getWatchmanDiagReport() watchmanDiagReport} attribute.
+   * @param value The value for watchmanDiagReport
+   * @return A modified copy of {@code this} object
+   */
+  public final FileChangesIgnoredReport withWatchmanDiagReport(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "watchmanDiagReport");
+    if (this.watchmanDiagReport == newValue) return this;
+    return new FileChangesIgnoredReport(newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link DefectReporter.AbstractFileChangesIgnoredReport#getWatchmanDiagReport() watchmanDiagReport} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for watchmanDiagReport
+   * @return A modified copy of {@code this} object
+   */
+  public final FileChangesIgnoredReport withWatchmanDiagReport(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.watchmanDiagReport == value) return this;
+    return new FileChangesIgnoredReport(value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code FileChangesIgnoredReport} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof FileChangesIgnoredReport
+        && equalTo((FileChangesIgnoredReport) another);
+  }
+
+  private boolean equalTo(FileChangesIgnoredReport another) {
+    return Objects.equals(watchmanDiagReport, another.watchmanDiagReport);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code watchmanDiagReport}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(watchmanDiagReport);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FileChangesIgnoredReport} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FileChangesIgnoredReport")
+        .omitNullValues()
+        .add("watchmanDiagReport", watchmanDiagReport)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link DefectReporter.AbstractFileChangesIgnoredReport} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable FileChangesIgnoredReport instance
+   */
+  public static FileChangesIgnoredReport copyOf(DefectReporter.AbstractFileChangesIgnoredReport instance) {
+    if (instance instanceof FileChangesIgnoredReport) {
+      return (FileChangesIgnoredReport) instance;
+    }
+    return FileChangesIgnoredReport.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link FileChangesIgnoredReport FileChangesIgnoredReport}.
+   * @return A new FileChangesIgnoredReport builder
+   */
+  public static FileChangesIgnoredReport.Builder builder() {
+    return new FileChangesIgnoredReport.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link FileChangesIgnoredReport FileChangesIgnoredReport}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable Path watchmanDiagReport;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractFileChangesIgnoredReport} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DefectReporter.AbstractFileChangesIgnoredReport instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<Path> watchmanDiagReportOptional = instance.getWatchmanDiagReport();
+      if (watchmanDiagReportOptional.isPresent()) {
+        setWatchmanDiagReport(watchmanDiagReportOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractFileChangesIgnoredReport#getWatchmanDiagReport() watchmanDiagReport} to watchmanDiagReport.
+     * @param watchmanDiagReport The value for watchmanDiagReport
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setWatchmanDiagReport(Path watchmanDiagReport) {
+      this.watchmanDiagReport = Objects.requireNonNull(watchmanDiagReport, "watchmanDiagReport");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractFileChangesIgnoredReport#getWatchmanDiagReport() watchmanDiagReport} to watchmanDiagReport.
+     * @param watchmanDiagReport The value for watchmanDiagReport
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWatchmanDiagReport(Optional<? extends Path> watchmanDiagReport) {
+      this.watchmanDiagReport = watchmanDiagReport.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link FileChangesIgnoredReport FileChangesIgnoredReport}.
+     * @return An immutable instance of FileChangesIgnoredReport
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public FileChangesIgnoredReport build() {
+      return new FileChangesIgnoredReport(watchmanDiagReport);
+    }
+  }
+}
@@ -0,0 +1,1643 @@
+package com.facebook.buck.haskell;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code HaskellPrebuiltLibraryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg"})
+@Immutable
+public final class HaskellPrebuiltLibraryDescriptionArg
+    implements HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg {
+  private final String version;
+  private final String id;
+  private final SourcePath db;
+  private final ImmutableList<SourcePath> importDirs;
+  private final ImmutableList<SourcePath> staticLibs;
+  private final ImmutableList<SourcePath> profiledStaticLibs;
+  private final ImmutableMap<String, SourcePath> sharedLibs;
+  private final ImmutableList<String> exportedLinkerFlags;
+  private final ImmutableList<String> exportedCompilerFlags;
+  private final ImmutableSortedSet<SourcePath> cxxHeaderDirs;
+  private final boolean enableProfiling;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private HaskellPrebuiltLibraryDescriptionArg(HaskellPrebuiltLibraryDescriptionArg.Builder builder) {
+    this.version = builder.version;
+    this.db = builder.db;
+    this.importDirs = builder.importDirs.build();
+    this.staticLibs = builder.staticLibs.build();
+    this.profiledStaticLibs = builder.profiledStaticLibs.build();
+    this.sharedLibs = builder.sharedLibs.build();
+    this.exportedLinkerFlags = builder.exportedLinkerFlags.build();
+    this.exportedCompilerFlags = builder.exportedCompilerFlags.build();
+    this.cxxHeaderDirs = builder.cxxHeaderDirs.build();
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    if (builder.id != null) {
+      initShim.setId(builder.id);
+    }
+    if (builder.enableProfilingIsSet()) {
+      initShim.setEnableProfiling(builder.enableProfiling);
+    }
+    this.id = initShim.getId();
+    this.enableProfiling = initShim.isEnableProfiling();
+    this.initShim = null;
+  }
+
+  private HaskellPrebuiltLibraryDescriptionArg(
+      String version,
+      String id,
+      SourcePath db,
+      ImmutableList<SourcePath> importDirs,
+      ImmutableList<SourcePath> staticLibs,
+      ImmutableList<SourcePath> profiledStaticLibs,
+      ImmutableMap<String, SourcePath> sharedLibs,
+      ImmutableList<String> exportedLinkerFlags,
+      ImmutableList<String> exportedCompilerFlags,
+      ImmutableSortedSet<SourcePath> cxxHeaderDirs,
+      boolean enableProfiling,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.version = version;
+    this.id = id;
+    this.db = db;
+    this.importDirs = importDirs;
+    this.staticLibs = staticLibs;
+    this.profiledStaticLibs = profiledStaticLibs;
+    this.sharedLibs = sharedLibs;
+    this.exportedLinkerFlags = exportedLinkerFlags;
+    this.exportedCompilerFlags = exportedCompilerFlags;
+    this.cxxHeaderDirs = cxxHeaderDirs;
+    this.enableProfiling = enableProfiling;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private String id;
+    private int idBuildStage;
+
+    String getId() {
+      if (idBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (idBuildStage == STAGE_UNINITIALIZED) {
+        idBuildStage = STAGE_INITIALIZING;
+        this.id = Objects.requireNonNull(getIdInitialize(), "id");
+        idBuildStage = STAGE_INITIALIZED;
+      }
+      return this.id;
+    }
+
+    void setId(String id) {
+      this.id = id;
+      idBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean enableProfiling;
+    private int enableProfilingBuildStage;
+
+    boolean isEnableProfiling() {
+      if (enableProfilingBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (enableProfilingBuildStage == STAGE_UNINITIALIZED) {
+        enableProfilingBuildStage = STAGE_INITIALIZING;
+        this.enableProfiling = isEnableProfilingInitialize();
+        enableProfilingBuildStage = STAGE_INITIALIZED;
+      }
+      return this.enableProfiling;
+    }
+
+    void setEnableProfiling(boolean enableProfiling) {
+      this.enableProfiling = enableProfiling;
+      enableProfilingBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (idBuildStage == STAGE_INITIALIZING) attributes.add("id");
+      if (enableProfilingBuildStage == STAGE_INITIALIZING) attributes.add("enableProfiling");
+      return "Cannot build HaskellPrebuiltLibraryDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private String getIdInitialize() {
+    return HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg.super.getId();
+  }
+
+  private boolean isEnableProfilingInitialize() {
+    return HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg.super.isEnableProfiling();
+  }
+
+  /**
+   * @return The value of the {@code version} attribute
+   */
+  @Override
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+   * @return The value of the {@code id} attribute
+   */
+  @Override
+  public String getId() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getId()
+        : this.id;
+  }
+
+  /**
+   * @return The value of the {@code db} attribute
+   */
+  @Override
+  public SourcePath getDb() {
+    return db;
+  }
+
+  /**
+   * @return The value of the {@code importDirs} attribute
+   */
+  @Override
+  public ImmutableList<SourcePath> getImportDirs() {
+    return importDirs;
+  }
+
+  /**
+   * @return The value of the {@code staticLibs} attribute
+   */
+  @Override
+  public ImmutableList<SourcePath> getStaticLibs() {
+    return staticLibs;
+  }
+
+  /**
+   * @return The value of the {@code profiledStaticLibs} attribute
+   */
+  @Override
+  public ImmutableList<SourcePath> getProfiledStaticLibs() {
+    return profiledStaticLibs;
+  }
+
+  /**
+   * @return The value of the {@code sharedLibs} attribute
+   */
+  @Override
+  public ImmutableMap<String, SourcePath> getSharedLibs() {
+    return sharedLibs;
+  }
+
+  /**
+   * @return The value of the {@code exportedLinkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getExportedLinkerFlags() {
+    return exportedLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedCompilerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getExportedCompilerFlags() {
+    return exportedCompilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code cxxHeaderDirs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getCxxHeaderDirs() {
+    return cxxHeaderDirs;
+  }
+
+  /**
+   * @return The value of the {@code enableProfiling} attribute
+   */
+  @Override
+  public boolean isEnableProfiling() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isEnableProfiling()
+        : this.enableProfiling;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getVersion() version} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for version
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withVersion(String value) {
+    if (this.version.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "version");
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        newValue,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getId() id} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for id
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withId(String value) {
+    if (this.id.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "id");
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        newValue,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getDb() db} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for db
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withDb(SourcePath value) {
+    if (this.db == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "db");
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        newValue,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getImportDirs() importDirs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withImportDirs(SourcePath... elements) {
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        newValue,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getImportDirs() importDirs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of importDirs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withImportDirs(Iterable<? extends SourcePath> elements) {
+    if (this.importDirs == elements) return this;
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        newValue,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getStaticLibs() staticLibs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withStaticLibs(SourcePath... elements) {
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        newValue,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getStaticLibs() staticLibs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of staticLibs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withStaticLibs(Iterable<? extends SourcePath> elements) {
+    if (this.staticLibs == elements) return this;
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        newValue,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getProfiledStaticLibs() profiledStaticLibs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withProfiledStaticLibs(SourcePath... elements) {
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        newValue,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getProfiledStaticLibs() profiledStaticLibs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of profiledStaticLibs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withProfiledStaticLibs(Iterable<? extends SourcePath> elements) {
+    if (this.profiledStaticLibs == elements) return this;
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        newValue,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getSharedLibs() sharedLibs} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the sharedLibs map
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withSharedLibs(Map<String, ? extends SourcePath> entries) {
+    if (this.sharedLibs == entries) return this;
+    ImmutableMap<String, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        newValue,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withExportedLinkerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        newValue,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedLinkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withExportedLinkerFlags(Iterable<String> elements) {
+    if (this.exportedLinkerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        newValue,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getExportedCompilerFlags() exportedCompilerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withExportedCompilerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        newValue,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getExportedCompilerFlags() exportedCompilerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedCompilerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withExportedCompilerFlags(Iterable<String> elements) {
+    if (this.exportedCompilerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        newValue,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getCxxHeaderDirs() cxxHeaderDirs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withCxxHeaderDirs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        newValue,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getCxxHeaderDirs() cxxHeaderDirs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cxxHeaderDirs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withCxxHeaderDirs(Iterable<? extends SourcePath> elements) {
+    if (this.cxxHeaderDirs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        newValue,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#isEnableProfiling() enableProfiling} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for enableProfiling
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withEnableProfiling(boolean value) {
+    if (this.enableProfiling == value) return this;
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellPrebuiltLibraryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new HaskellPrebuiltLibraryDescriptionArg(
+        this.version,
+        this.id,
+        this.db,
+        this.importDirs,
+        this.staticLibs,
+        this.profiledStaticLibs,
+        this.sharedLibs,
+        this.exportedLinkerFlags,
+        this.exportedCompilerFlags,
+        this.cxxHeaderDirs,
+        this.enableProfiling,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HaskellPrebuiltLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HaskellPrebuiltLibraryDescriptionArg
+        && equalTo((HaskellPrebuiltLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(HaskellPrebuiltLibraryDescriptionArg another) {
+    return version.equals(another.version)
+        && id.equals(another.id)
+        && db.equals(another.db)
+        && importDirs.equals(another.importDirs)
+        && staticLibs.equals(another.staticLibs)
+        && profiledStaticLibs.equals(another.profiledStaticLibs)
+        && sharedLibs.equals(another.sharedLibs)
+        && exportedLinkerFlags.equals(another.exportedLinkerFlags)
+        && exportedCompilerFlags.equals(another.exportedCompilerFlags)
+        && cxxHeaderDirs.equals(another.cxxHeaderDirs)
+        && enableProfiling == another.enableProfiling
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code version}, {@code id}, {@code db}, {@code importDirs}, {@code staticLibs}, {@code profiledStaticLibs}, {@code sharedLibs}, {@code exportedLinkerFlags}, {@code exportedCompilerFlags}, {@code cxxHeaderDirs}, {@code enableProfiling}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + version.hashCode();
+    h += (h << 5) + id.hashCode();
+    h += (h << 5) + db.hashCode();
+    h += (h << 5) + importDirs.hashCode();
+    h += (h << 5) + staticLibs.hashCode();
+    h += (h << 5) + profiledStaticLibs.hashCode();
+    h += (h << 5) + sharedLibs.hashCode();
+    h += (h << 5) + exportedLinkerFlags.hashCode();
+    h += (h << 5) + exportedCompilerFlags.hashCode();
+    h += (h << 5) + cxxHeaderDirs.hashCode();
+    h += (h << 5) + Booleans.hashCode(enableProfiling);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HaskellPrebuiltLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HaskellPrebuiltLibraryDescriptionArg")
+        .omitNullValues()
+        .add("version", version)
+        .add("id", id)
+        .add("db", db)
+        .add("importDirs", importDirs)
+        .add("staticLibs", staticLibs)
+        .add("profiledStaticLibs", profiledStaticLibs)
+        .add("sharedLibs", sharedLibs)
+        .add("exportedLinkerFlags", exportedLinkerFlags)
+        .add("exportedCompilerFlags", exportedCompilerFlags)
+        .add("cxxHeaderDirs", cxxHeaderDirs)
+        .add("enableProfiling", enableProfiling)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable HaskellPrebuiltLibraryDescriptionArg instance
+   */
+  static HaskellPrebuiltLibraryDescriptionArg copyOf(HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg instance) {
+    if (instance instanceof HaskellPrebuiltLibraryDescriptionArg) {
+      return (HaskellPrebuiltLibraryDescriptionArg) instance;
+    }
+    return HaskellPrebuiltLibraryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link HaskellPrebuiltLibraryDescriptionArg HaskellPrebuiltLibraryDescriptionArg}.
+   * @return A new HaskellPrebuiltLibraryDescriptionArg builder
+   */
+  public static HaskellPrebuiltLibraryDescriptionArg.Builder builder() {
+    return new HaskellPrebuiltLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HaskellPrebuiltLibraryDescriptionArg HaskellPrebuiltLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_VERSION = 0x1L;
+    private static final long INIT_BIT_DB = 0x2L;
+    private static final long INIT_BIT_NAME = 0x4L;
+    private static final long OPT_BIT_ENABLE_PROFILING = 0x1L;
+    private long initBits = 0x7L;
+    private long optBits;
+
+    private @Nullable String version;
+    private @Nullable String id;
+    private @Nullable SourcePath db;
+    private ImmutableList.Builder<SourcePath> importDirs = ImmutableList.builder();
+    private ImmutableList.Builder<SourcePath> staticLibs = ImmutableList.builder();
+    private ImmutableList.Builder<SourcePath> profiledStaticLibs = ImmutableList.builder();
+    private ImmutableMap.Builder<String, SourcePath> sharedLibs = ImmutableMap.builder();
+    private ImmutableList.Builder<String> exportedLinkerFlags = ImmutableList.builder();
+    private ImmutableList.Builder<String> exportedCompilerFlags = ImmutableList.builder();
+    private ImmutableSortedSet.Builder<SourcePath> cxxHeaderDirs = ImmutableSortedSet.naturalOrder();
+    private boolean enableProfiling;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HaskellPrebuiltLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HaskellPrebuiltLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHaskellPrebuiltLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg) {
+        HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg instance = (HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg) object;
+        putAllSharedLibs(instance.getSharedLibs());
+        addAllStaticLibs(instance.getStaticLibs());
+        addAllExportedCompilerFlags(instance.getExportedCompilerFlags());
+        addAllExportedLinkerFlags(instance.getExportedLinkerFlags());
+        addAllCxxHeaderDirs(instance.getCxxHeaderDirs());
+        setId(instance.getId());
+        setVersion(instance.getVersion());
+        setEnableProfiling(instance.isEnableProfiling());
+        addAllImportDirs(instance.getImportDirs());
+        setDb(instance.getDb());
+        addAllProfiledStaticLibs(instance.getProfiledStaticLibs());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getVersion() version} attribute.
+     * @param version The value for version 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersion(String version) {
+      this.version = Objects.requireNonNull(version, "version");
+      initBits &= ~INIT_BIT_VERSION;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getId() id} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getId() id}.</em>
+     * @param id The value for id 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setId(String id) {
+      this.id = Objects.requireNonNull(id, "id");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getDb() db} attribute.
+     * @param db The value for db 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDb(SourcePath db) {
+      this.db = Objects.requireNonNull(db, "db");
+      initBits &= ~INIT_BIT_DB;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getImportDirs() importDirs} list.
+     * @param element A importDirs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addImportDirs(SourcePath element) {
+      this.importDirs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getImportDirs() importDirs} list.
+     * @param elements An array of importDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addImportDirs(SourcePath... elements) {
+      this.importDirs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getImportDirs() importDirs} list.
+     * @param elements An iterable of importDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setImportDirs(Iterable<? extends SourcePath> elements) {
+      this.importDirs = ImmutableList.builder();
+      return addAllImportDirs(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getImportDirs() importDirs} list.
+     * @param elements An iterable of importDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllImportDirs(Iterable<? extends SourcePath> elements) {
+      this.importDirs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getStaticLibs() staticLibs} list.
+     * @param element A staticLibs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addStaticLibs(SourcePath element) {
+      this.staticLibs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getStaticLibs() staticLibs} list.
+     * @param elements An array of staticLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addStaticLibs(SourcePath... elements) {
+      this.staticLibs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getStaticLibs() staticLibs} list.
+     * @param elements An iterable of staticLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStaticLibs(Iterable<? extends SourcePath> elements) {
+      this.staticLibs = ImmutableList.builder();
+      return addAllStaticLibs(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getStaticLibs() staticLibs} list.
+     * @param elements An iterable of staticLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllStaticLibs(Iterable<? extends SourcePath> elements) {
+      this.staticLibs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getProfiledStaticLibs() profiledStaticLibs} list.
+     * @param element A profiledStaticLibs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addProfiledStaticLibs(SourcePath element) {
+      this.profiledStaticLibs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getProfiledStaticLibs() profiledStaticLibs} list.
+     * @param elements An array of profiledStaticLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addProfiledStaticLibs(SourcePath... elements) {
+      this.profiledStaticLibs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getProfiledStaticLibs() profiledStaticLibs} list.
+     * @param elements An iterable of profiledStaticLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProfiledStaticLibs(Iterable<? extends SourcePath> elements) {
+      this.profiledStaticLibs = ImmutableList.builder();
+      return addAllProfiledStaticLibs(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getProfiledStaticLibs() profiledStaticLibs} list.
+     * @param elements An iterable of profiledStaticLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllProfiledStaticLibs(Iterable<? extends SourcePath> elements) {
+      this.profiledStaticLibs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getSharedLibs() sharedLibs} map.
+     * @param key The key in the sharedLibs map
+     * @param value The associated value in the sharedLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putSharedLibs(String key, SourcePath value) {
+      this.sharedLibs.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getSharedLibs() sharedLibs} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putSharedLibs(Map.Entry<String, ? extends SourcePath> entry) {
+      this.sharedLibs.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getSharedLibs() sharedLibs} map. Nulls are not permitted
+     * @param sharedLibs The entries that will be added to the sharedLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSharedLibs(Map<String, ? extends SourcePath> sharedLibs) {
+      this.sharedLibs = ImmutableMap.builder();
+      return putAllSharedLibs(sharedLibs);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getSharedLibs() sharedLibs} map. Nulls are not permitted
+     * @param sharedLibs The entries that will be added to the sharedLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllSharedLibs(Map<String, ? extends SourcePath> sharedLibs) {
+      this.sharedLibs.putAll(sharedLibs);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param element A exportedLinkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedLinkerFlags(String element) {
+      this.exportedLinkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An array of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedLinkerFlags(String... elements) {
+      this.exportedLinkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An iterable of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedLinkerFlags(Iterable<String> elements) {
+      this.exportedLinkerFlags = ImmutableList.builder();
+      return addAllExportedLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An iterable of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExportedLinkerFlags(Iterable<String> elements) {
+      this.exportedLinkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getExportedCompilerFlags() exportedCompilerFlags} list.
+     * @param element A exportedCompilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedCompilerFlags(String element) {
+      this.exportedCompilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getExportedCompilerFlags() exportedCompilerFlags} list.
+     * @param elements An array of exportedCompilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExportedCompilerFlags(String... elements) {
+      this.exportedCompilerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getExportedCompilerFlags() exportedCompilerFlags} list.
+     * @param elements An iterable of exportedCompilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExportedCompilerFlags(Iterable<String> elements) {
+      this.exportedCompilerFlags = ImmutableList.builder();
+      return addAllExportedCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getExportedCompilerFlags() exportedCompilerFlags} list.
+     * @param elements An iterable of exportedCompilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExportedCompilerFlags(Iterable<String> elements) {
+      this.exportedCompilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getCxxHeaderDirs() cxxHeaderDirs} sortedSet.
+     * @param element A cxxHeaderDirs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCxxHeaderDirs(SourcePath element) {
+      this.cxxHeaderDirs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getCxxHeaderDirs() cxxHeaderDirs} sortedSet.
+     * @param elements An array of cxxHeaderDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCxxHeaderDirs(SourcePath... elements) {
+      this.cxxHeaderDirs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getCxxHeaderDirs() cxxHeaderDirs} sortedSet.
+     * @param elements An iterable of cxxHeaderDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxHeaderDirs(Iterable<? extends SourcePath> elements) {
+      this.cxxHeaderDirs = ImmutableSortedSet.naturalOrder();
+      return addAllCxxHeaderDirs(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getCxxHeaderDirs() cxxHeaderDirs} sortedSet.
+     * @param elements An iterable of cxxHeaderDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCxxHeaderDirs(Iterable<? extends SourcePath> elements) {
+      this.cxxHeaderDirs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#isEnableProfiling() enableProfiling} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#isEnableProfiling() enableProfiling}.</em>
+     * @param enableProfiling The value for enableProfiling 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnableProfiling(boolean enableProfiling) {
+      this.enableProfiling = enableProfiling;
+      optBits |= OPT_BIT_ENABLE_PROFILING;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link HaskellPrebuiltLibraryDescription.AbstractHaskellPrebuiltLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HaskellPrebuiltLibraryDescriptionArg HaskellPrebuiltLibraryDescriptionArg}.
+     * @return An immutable instance of HaskellPrebuiltLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HaskellPrebuiltLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new HaskellPrebuiltLibraryDescriptionArg(this);
+    }
+
+    private boolean enableProfilingIsSet() {
+      return (optBits & OPT_BIT_ENABLE_PROFILING) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_VERSION) != 0) attributes.add("version");
+      if ((initBits & INIT_BIT_DB) != 0) attributes.add("db");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build HaskellPrebuiltLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,325 @@
+package com.facebook.buck.immutables;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Interface from which a concrete immutable implementation {@link Type} will be generated, along
+ * with an {@link Type.Builder}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractType"})
+@Immutable
+public final class Type implements AbstractType {
+  private final String name;
+  private final ImmutableList<Long> phoneNumbers;
+  private final @Nullable String description;
+
+  private Type(
+      String name,
+      ImmutableList<Long> phoneNumbers,
+      @Nullable String description) {
+    this.name = name;
+    this.phoneNumbers = phoneNumbers;
+    this.description = description;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code phoneNumbers} attribute
+   */
+  @Override
+  public ImmutableList<Long> getPhoneNumbers() {
+    return phoneNumbers;
+  }
+
+  /**
+   * @return The value of the {@code description} attribute
+   */
+  @Override
+  public Optional<String> getDescription() {
+    return Optional.ofNullable(description);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractType#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final Type withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new Type(newValue, this.phoneNumbers, this.description);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractType#getPhoneNumbers() phoneNumbers}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final Type withPhoneNumbers(long... elements) {
+    ImmutableList<Long> newValue = ImmutableList.copyOf(Longs.asList(elements));
+    return new Type(this.name, newValue, this.description);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractType#getPhoneNumbers() phoneNumbers}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of phoneNumbers elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final Type withPhoneNumbers(Iterable<Long> elements) {
+    if (this.phoneNumbers == elements) return this;
+    ImmutableList<Long> newValue = ImmutableList.copyOf(elements);
+    return new Type(this.name, newValue, this.description);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractType#getDescription() description} attribute.
+   * @param value The value for description
+   * @return A modified copy of {@code this} object
+   */
+  public final Type withDescription(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "description");
+    if (Objects.equals(this.description, newValue)) return this;
+    return new Type(this.name, this.phoneNumbers, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractType#getDescription() description} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for description
+   * @return A modified copy of {@code this} object
+   */
+  public final Type withDescription(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.description, value)) return this;
+    return new Type(this.name, this.phoneNumbers, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code Type} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof Type
+        && equalTo((Type) another);
+  }
+
+  private boolean equalTo(Type another) {
+    return name.equals(another.name)
+        && phoneNumbers.equals(another.phoneNumbers)
+        && Objects.equals(description, another.description);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code phoneNumbers}, {@code description}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + phoneNumbers.hashCode();
+    h += (h << 5) + Objects.hashCode(description);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code Type} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("Type")
+        .omitNullValues()
+        .add("name", name)
+        .add("phoneNumbers", phoneNumbers)
+        .add("description", description)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractType} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable Type instance
+   */
+  static Type copyOf(AbstractType instance) {
+    if (instance instanceof Type) {
+      return (Type) instance;
+    }
+    return Type.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link Type Type}.
+   * @return A new Type builder
+   */
+  public static Type.Builder builder() {
+    return new Type.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link Type Type}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String name;
+    private ImmutableList.Builder<Long> phoneNumbers = ImmutableList.builder();
+    private @Nullable String description;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code Type} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(Type instance) {
+      return from((AbstractType) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractType} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractType instance) {
+      Objects.requireNonNull(instance, "instance");
+      setName(instance.getName());
+      addAllPhoneNumbers(instance.getPhoneNumbers());
+      Optional<String> descriptionOptional = instance.getDescription();
+      if (descriptionOptional.isPresent()) {
+        setDescription(descriptionOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractType#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractType#getPhoneNumbers() phoneNumbers} list.
+     * @param element A phoneNumbers element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPhoneNumbers(long element) {
+      this.phoneNumbers.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractType#getPhoneNumbers() phoneNumbers} list.
+     * @param elements An array of phoneNumbers elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPhoneNumbers(long... elements) {
+      this.phoneNumbers.addAll(Longs.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractType#getPhoneNumbers() phoneNumbers} list.
+     * @param elements An iterable of phoneNumbers elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPhoneNumbers(Iterable<Long> elements) {
+      this.phoneNumbers = ImmutableList.builder();
+      return addAllPhoneNumbers(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractType#getPhoneNumbers() phoneNumbers} list.
+     * @param elements An iterable of phoneNumbers elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPhoneNumbers(Iterable<Long> elements) {
+      this.phoneNumbers.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractType#getDescription() description} to description.
+     * @param description The value for description
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDescription(String description) {
+      this.description = Objects.requireNonNull(description, "description");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractType#getDescription() description} to description.
+     * @param description The value for description
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDescription(Optional<String> description) {
+      this.description = description.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link Type Type}.
+     * @return An immutable instance of Type
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public Type build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new Type(name, phoneNumbers.build(), description);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build Type, some of required attributes are not set " + attributes;
+    }
+  }
+}
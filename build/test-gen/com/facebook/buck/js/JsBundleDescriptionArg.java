@@ -0,0 +1,1000 @@
+package com.facebook.buck.js;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Either;
+import com.facebook.buck.model.Flavor;
+import com.facebook.buck.model.Pair;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link JsBundleDescription.AbstractJsBundleDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code JsBundleDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "JsBundleDescription.AbstractJsBundleDescriptionArg"})
+@Immutable
+public final class JsBundleDescriptionArg
+    implements JsBundleDescription.AbstractJsBundleDescriptionArg {
+  private final Either<ImmutableSet<String>, String> entry;
+  private final String bundleName;
+  private final ImmutableList<Pair<Flavor, String>> bundleNameForFlavor;
+  private final BuildTarget worker;
+  private final @Nullable String androidPackage;
+  private final ImmutableList<ImmutableSet<BuildTarget>> libraryGroups;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private JsBundleDescriptionArg(JsBundleDescriptionArg.Builder builder) {
+    this.entry = builder.entry;
+    this.bundleNameForFlavor = builder.bundleNameForFlavor.build();
+    this.worker = builder.worker;
+    this.androidPackage = builder.androidPackage;
+    this.libraryGroups = builder.libraryGroups.build();
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.bundleName = builder.bundleName != null
+        ? builder.bundleName
+        : Objects.requireNonNull(JsBundleDescription.AbstractJsBundleDescriptionArg.super.getBundleName(), "bundleName");
+  }
+
+  private JsBundleDescriptionArg(
+      Either<ImmutableSet<String>, String> entry,
+      String bundleName,
+      ImmutableList<Pair<Flavor, String>> bundleNameForFlavor,
+      BuildTarget worker,
+      @Nullable String androidPackage,
+      ImmutableList<ImmutableSet<BuildTarget>> libraryGroups,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.entry = entry;
+    this.bundleName = bundleName;
+    this.bundleNameForFlavor = bundleNameForFlavor;
+    this.worker = worker;
+    this.androidPackage = androidPackage;
+    this.libraryGroups = libraryGroups;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+  }
+
+  /**
+   * @return The value of the {@code entry} attribute
+   */
+  @Override
+  public Either<ImmutableSet<String>, String> getEntry() {
+    return entry;
+  }
+
+  /**
+   * @return The value of the {@code bundleName} attribute
+   */
+  @Override
+  public String getBundleName() {
+    return bundleName;
+  }
+
+  /**
+   * @return The value of the {@code bundleNameForFlavor} attribute
+   */
+  @Override
+  public ImmutableList<Pair<Flavor, String>> getBundleNameForFlavor() {
+    return bundleNameForFlavor;
+  }
+
+  /**
+   * @return The value of the {@code worker} attribute
+   */
+  @Override
+  public BuildTarget getWorker() {
+    return worker;
+  }
+
+  /**
+   *For R.java 
+   */
+  @Override
+  public Optional<String> getAndroidPackage() {
+    return Optional.ofNullable(androidPackage);
+  }
+
+  /**
+   * Get the ordered list of library groups that should be bundled together, in the case of
+   * "bundle splitting".
+   */
+  @Override
+  public ImmutableList<ImmutableSet<BuildTarget>> getLibraryGroups() {
+    return libraryGroups;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getEntry() entry} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for entry
+   * @return A modified copy of the {@code this} object
+   */
+  public final JsBundleDescriptionArg withEntry(Either<ImmutableSet<String>, String> value) {
+    if (this.entry == value) return this;
+    Either<ImmutableSet<String>, String> newValue = Objects.requireNonNull(value, "entry");
+    return new JsBundleDescriptionArg(
+        newValue,
+        this.bundleName,
+        this.bundleNameForFlavor,
+        this.worker,
+        this.androidPackage,
+        this.libraryGroups,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getBundleName() bundleName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for bundleName
+   * @return A modified copy of the {@code this} object
+   */
+  public final JsBundleDescriptionArg withBundleName(String value) {
+    if (this.bundleName.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "bundleName");
+    return new JsBundleDescriptionArg(
+        this.entry,
+        newValue,
+        this.bundleNameForFlavor,
+        this.worker,
+        this.androidPackage,
+        this.libraryGroups,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getBundleNameForFlavor() bundleNameForFlavor}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  @SafeVarargs @SuppressWarnings("varargs")
+  public final JsBundleDescriptionArg withBundleNameForFlavor(Pair<Flavor, String>... elements) {
+    ImmutableList<Pair<Flavor, String>> newValue = ImmutableList.copyOf(elements);
+    return new JsBundleDescriptionArg(
+        this.entry,
+        this.bundleName,
+        newValue,
+        this.worker,
+        this.androidPackage,
+        this.libraryGroups,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getBundleNameForFlavor() bundleNameForFlavor}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of bundleNameForFlavor elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleDescriptionArg withBundleNameForFlavor(Iterable<? extends Pair<Flavor, String>> elements) {
+    if (this.bundleNameForFlavor == elements) return this;
+    ImmutableList<Pair<Flavor, String>> newValue = ImmutableList.copyOf(elements);
+    return new JsBundleDescriptionArg(
+        this.entry,
+        this.bundleName,
+        newValue,
+        this.worker,
+        this.androidPackage,
+        this.libraryGroups,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getWorker() worker} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for worker
+   * @return A modified copy of the {@code this} object
+   */
+  public final JsBundleDescriptionArg withWorker(BuildTarget value) {
+    if (this.worker == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "worker");
+    return new JsBundleDescriptionArg(
+        this.entry,
+        this.bundleName,
+        this.bundleNameForFlavor,
+        newValue,
+        this.androidPackage,
+        this.libraryGroups,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getAndroidPackage() androidPackage} attribute.
+   * @param value The value for androidPackage
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleDescriptionArg withAndroidPackage(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "androidPackage");
+    if (Objects.equals(this.androidPackage, newValue)) return this;
+    return new JsBundleDescriptionArg(
+        this.entry,
+        this.bundleName,
+        this.bundleNameForFlavor,
+        this.worker,
+        newValue,
+        this.libraryGroups,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getAndroidPackage() androidPackage} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for androidPackage
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleDescriptionArg withAndroidPackage(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.androidPackage, value)) return this;
+    return new JsBundleDescriptionArg(
+        this.entry,
+        this.bundleName,
+        this.bundleNameForFlavor,
+        this.worker,
+        value,
+        this.libraryGroups,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLibraryGroups() libraryGroups}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  @SafeVarargs @SuppressWarnings("varargs")
+  public final JsBundleDescriptionArg withLibraryGroups(ImmutableSet<BuildTarget>... elements) {
+    ImmutableList<ImmutableSet<BuildTarget>> newValue = ImmutableList.copyOf(elements);
+    return new JsBundleDescriptionArg(
+        this.entry,
+        this.bundleName,
+        this.bundleNameForFlavor,
+        this.worker,
+        this.androidPackage,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLibraryGroups() libraryGroups}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of libraryGroups elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleDescriptionArg withLibraryGroups(Iterable<? extends ImmutableSet<BuildTarget>> elements) {
+    if (this.libraryGroups == elements) return this;
+    ImmutableList<ImmutableSet<BuildTarget>> newValue = ImmutableList.copyOf(elements);
+    return new JsBundleDescriptionArg(
+        this.entry,
+        this.bundleName,
+        this.bundleNameForFlavor,
+        this.worker,
+        this.androidPackage,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final JsBundleDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new JsBundleDescriptionArg(
+        this.entry,
+        this.bundleName,
+        this.bundleNameForFlavor,
+        this.worker,
+        this.androidPackage,
+        this.libraryGroups,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new JsBundleDescriptionArg(
+        this.entry,
+        this.bundleName,
+        this.bundleNameForFlavor,
+        this.worker,
+        this.androidPackage,
+        this.libraryGroups,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new JsBundleDescriptionArg(
+        this.entry,
+        this.bundleName,
+        this.bundleNameForFlavor,
+        this.worker,
+        this.androidPackage,
+        this.libraryGroups,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new JsBundleDescriptionArg(
+        this.entry,
+        this.bundleName,
+        this.bundleNameForFlavor,
+        this.worker,
+        this.androidPackage,
+        this.libraryGroups,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new JsBundleDescriptionArg(
+        this.entry,
+        this.bundleName,
+        this.bundleNameForFlavor,
+        this.worker,
+        this.androidPackage,
+        this.libraryGroups,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new JsBundleDescriptionArg(
+        this.entry,
+        this.bundleName,
+        this.bundleNameForFlavor,
+        this.worker,
+        this.androidPackage,
+        this.libraryGroups,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsBundleDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new JsBundleDescriptionArg(
+        this.entry,
+        this.bundleName,
+        this.bundleNameForFlavor,
+        this.worker,
+        this.androidPackage,
+        this.libraryGroups,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JsBundleDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JsBundleDescriptionArg
+        && equalTo((JsBundleDescriptionArg) another);
+  }
+
+  private boolean equalTo(JsBundleDescriptionArg another) {
+    return entry.equals(another.entry)
+        && bundleName.equals(another.bundleName)
+        && bundleNameForFlavor.equals(another.bundleNameForFlavor)
+        && worker.equals(another.worker)
+        && Objects.equals(androidPackage, another.androidPackage)
+        && libraryGroups.equals(another.libraryGroups)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code entry}, {@code bundleName}, {@code bundleNameForFlavor}, {@code worker}, {@code androidPackage}, {@code libraryGroups}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + entry.hashCode();
+    h += (h << 5) + bundleName.hashCode();
+    h += (h << 5) + bundleNameForFlavor.hashCode();
+    h += (h << 5) + worker.hashCode();
+    h += (h << 5) + Objects.hashCode(androidPackage);
+    h += (h << 5) + libraryGroups.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JsBundleDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JsBundleDescriptionArg")
+        .omitNullValues()
+        .add("entry", entry)
+        .add("bundleName", bundleName)
+        .add("bundleNameForFlavor", bundleNameForFlavor)
+        .add("worker", worker)
+        .add("androidPackage", androidPackage)
+        .add("libraryGroups", libraryGroups)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link JsBundleDescription.AbstractJsBundleDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable JsBundleDescriptionArg instance
+   */
+  static JsBundleDescriptionArg copyOf(JsBundleDescription.AbstractJsBundleDescriptionArg instance) {
+    if (instance instanceof JsBundleDescriptionArg) {
+      return (JsBundleDescriptionArg) instance;
+    }
+    return JsBundleDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link JsBundleDescriptionArg JsBundleDescriptionArg}.
+   * @return A new JsBundleDescriptionArg builder
+   */
+  public static JsBundleDescriptionArg.Builder builder() {
+    return new JsBundleDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link JsBundleDescriptionArg JsBundleDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_ENTRY = 0x1L;
+    private static final long INIT_BIT_WORKER = 0x2L;
+    private static final long INIT_BIT_NAME = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable Either<ImmutableSet<String>, String> entry;
+    private @Nullable String bundleName;
+    private ImmutableList.Builder<Pair<Flavor, String>> bundleNameForFlavor = ImmutableList.builder();
+    private @Nullable BuildTarget worker;
+    private @Nullable String androidPackage;
+    private ImmutableList.Builder<ImmutableSet<BuildTarget>> libraryGroups = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JsBundleDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(JsBundleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractJsBundleDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(JsBundleDescription.AbstractJsBundleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof JsBundleDescription.AbstractJsBundleDescriptionArg) {
+        JsBundleDescription.AbstractJsBundleDescriptionArg instance = (JsBundleDescription.AbstractJsBundleDescriptionArg) object;
+        Optional<String> androidPackageOptional = instance.getAndroidPackage();
+        if (androidPackageOptional.isPresent()) {
+          setAndroidPackage(androidPackageOptional);
+        }
+        setEntry(instance.getEntry());
+        setBundleName(instance.getBundleName());
+        addAllLibraryGroups(instance.getLibraryGroups());
+        addAllBundleNameForFlavor(instance.getBundleNameForFlavor());
+        setWorker(instance.getWorker());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getEntry() entry} attribute.
+     * @param entry The value for entry 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEntry(Either<ImmutableSet<String>, String> entry) {
+      this.entry = Objects.requireNonNull(entry, "entry");
+      initBits &= ~INIT_BIT_ENTRY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getBundleName() bundleName} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getBundleName() bundleName}.</em>
+     * @param bundleName The value for bundleName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBundleName(String bundleName) {
+      this.bundleName = Objects.requireNonNull(bundleName, "bundleName");
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getBundleNameForFlavor() bundleNameForFlavor} list.
+     * @param element A bundleNameForFlavor element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBundleNameForFlavor(Pair<Flavor, String> element) {
+      this.bundleNameForFlavor.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getBundleNameForFlavor() bundleNameForFlavor} list.
+     * @param elements An array of bundleNameForFlavor elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @SafeVarargs @SuppressWarnings("varargs")
+    public final Builder addBundleNameForFlavor(Pair<Flavor, String>... elements) {
+      this.bundleNameForFlavor.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getBundleNameForFlavor() bundleNameForFlavor} list.
+     * @param elements An iterable of bundleNameForFlavor elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBundleNameForFlavor(Iterable<? extends Pair<Flavor, String>> elements) {
+      this.bundleNameForFlavor = ImmutableList.builder();
+      return addAllBundleNameForFlavor(elements);
+    }
+
+    /**
+     * Adds elements to {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getBundleNameForFlavor() bundleNameForFlavor} list.
+     * @param elements An iterable of bundleNameForFlavor elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllBundleNameForFlavor(Iterable<? extends Pair<Flavor, String>> elements) {
+      this.bundleNameForFlavor.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getWorker() worker} attribute.
+     * @param worker The value for worker 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWorker(BuildTarget worker) {
+      this.worker = Objects.requireNonNull(worker, "worker");
+      initBits &= ~INIT_BIT_WORKER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getAndroidPackage() androidPackage} to androidPackage.
+     * @param androidPackage The value for androidPackage
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAndroidPackage(String androidPackage) {
+      this.androidPackage = Objects.requireNonNull(androidPackage, "androidPackage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getAndroidPackage() androidPackage} to androidPackage.
+     * @param androidPackage The value for androidPackage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAndroidPackage(Optional<String> androidPackage) {
+      this.androidPackage = androidPackage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLibraryGroups() libraryGroups} list.
+     * @param element A libraryGroups element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLibraryGroups(ImmutableSet<BuildTarget> element) {
+      this.libraryGroups.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLibraryGroups() libraryGroups} list.
+     * @param elements An array of libraryGroups elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @SafeVarargs @SuppressWarnings("varargs")
+    public final Builder addLibraryGroups(ImmutableSet<BuildTarget>... elements) {
+      this.libraryGroups.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLibraryGroups() libraryGroups} list.
+     * @param elements An iterable of libraryGroups elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLibraryGroups(Iterable<? extends ImmutableSet<BuildTarget>> elements) {
+      this.libraryGroups = ImmutableList.builder();
+      return addAllLibraryGroups(elements);
+    }
+
+    /**
+     * Adds elements to {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLibraryGroups() libraryGroups} list.
+     * @param elements An iterable of libraryGroups elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLibraryGroups(Iterable<? extends ImmutableSet<BuildTarget>> elements) {
+      this.libraryGroups.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link JsBundleDescription.AbstractJsBundleDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link JsBundleDescriptionArg JsBundleDescriptionArg}.
+     * @return An immutable instance of JsBundleDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JsBundleDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new JsBundleDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_ENTRY) != 0) attributes.add("entry");
+      if ((initBits & INIT_BIT_WORKER) != 0) attributes.add("worker");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build JsBundleDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
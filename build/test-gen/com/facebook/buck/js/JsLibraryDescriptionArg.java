@@ -0,0 +1,1087 @@
+package com.facebook.buck.js;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Either;
+import com.facebook.buck.model.Pair;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasDepsQuery;
+import com.facebook.buck.rules.HasTests;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.query.Query;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code JsLibraryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "JsLibraryDescription.AbstractJsLibraryDescriptionArg"})
+@Immutable
+public final class JsLibraryDescriptionArg
+    implements JsLibraryDescription.AbstractJsLibraryDescriptionArg {
+  private final @Nullable String extraArgs;
+  private final ImmutableSet<Either<SourcePath, Pair<SourcePath, String>>> srcs;
+  private final BuildTarget worker;
+  private final @Nullable String basePath;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable Query depsQuery;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<BuildTarget> tests;
+
+  private JsLibraryDescriptionArg(
+      @Nullable String extraArgs,
+      ImmutableSet<Either<SourcePath, Pair<SourcePath, String>>> srcs,
+      BuildTarget worker,
+      @Nullable String basePath,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      @Nullable Query depsQuery,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<BuildTarget> tests) {
+    this.extraArgs = extraArgs;
+    this.srcs = srcs;
+    this.worker = worker;
+    this.basePath = basePath;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.depsQuery = depsQuery;
+    this.deps = deps;
+    this.tests = tests;
+  }
+
+  /**
+   * @return The value of the {@code extraArgs} attribute
+   */
+  @Override
+  public Optional<String> getExtraArgs() {
+    return Optional.ofNullable(extraArgs);
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSet<Either<SourcePath, Pair<SourcePath, String>>> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * @return The value of the {@code worker} attribute
+   */
+  @Override
+  public BuildTarget getWorker() {
+    return worker;
+  }
+
+  /**
+   * @return The value of the {@code basePath} attribute
+   */
+  @Override
+  public Optional<String> getBasePath() {
+    return Optional.ofNullable(basePath);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code depsQuery} attribute
+   */
+  @Override
+  public Optional<Query> getDepsQuery() {
+    return Optional.ofNullable(depsQuery);
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getExtraArgs() extraArgs} attribute.
+   * @param value The value for extraArgs
+   * @return A modified copy of {@code this} object
+   */
+  public final JsLibraryDescriptionArg withExtraArgs(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "extraArgs");
+    if (Objects.equals(this.extraArgs, newValue)) return this;
+    return new JsLibraryDescriptionArg(
+        newValue,
+        this.srcs,
+        this.worker,
+        this.basePath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getExtraArgs() extraArgs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for extraArgs
+   * @return A modified copy of {@code this} object
+   */
+  public final JsLibraryDescriptionArg withExtraArgs(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.extraArgs, value)) return this;
+    return new JsLibraryDescriptionArg(
+        value,
+        this.srcs,
+        this.worker,
+        this.basePath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  @SafeVarargs @SuppressWarnings("varargs")
+  public final JsLibraryDescriptionArg withSrcs(Either<SourcePath, Pair<SourcePath, String>>... elements) {
+    ImmutableSet<Either<SourcePath, Pair<SourcePath, String>>> newValue = ImmutableSet.copyOf(elements);
+    return new JsLibraryDescriptionArg(
+        this.extraArgs,
+        newValue,
+        this.worker,
+        this.basePath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsLibraryDescriptionArg withSrcs(Iterable<? extends Either<SourcePath, Pair<SourcePath, String>>> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSet<Either<SourcePath, Pair<SourcePath, String>>> newValue = ImmutableSet.copyOf(elements);
+    return new JsLibraryDescriptionArg(
+        this.extraArgs,
+        newValue,
+        this.worker,
+        this.basePath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getWorker() worker} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for worker
+   * @return A modified copy of the {@code this} object
+   */
+  public final JsLibraryDescriptionArg withWorker(BuildTarget value) {
+    if (this.worker == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "worker");
+    return new JsLibraryDescriptionArg(
+        this.extraArgs,
+        this.srcs,
+        newValue,
+        this.basePath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getBasePath() basePath} attribute.
+   * @param value The value for basePath
+   * @return A modified copy of {@code this} object
+   */
+  public final JsLibraryDescriptionArg withBasePath(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "basePath");
+    if (Objects.equals(this.basePath, newValue)) return this;
+    return new JsLibraryDescriptionArg(
+        this.extraArgs,
+        this.srcs,
+        this.worker,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getBasePath() basePath} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for basePath
+   * @return A modified copy of {@code this} object
+   */
+  public final JsLibraryDescriptionArg withBasePath(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.basePath, value)) return this;
+    return new JsLibraryDescriptionArg(
+        this.extraArgs,
+        this.srcs,
+        this.worker,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final JsLibraryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new JsLibraryDescriptionArg(
+        this.extraArgs,
+        this.srcs,
+        this.worker,
+        this.basePath,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsLibraryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new JsLibraryDescriptionArg(
+        this.extraArgs,
+        this.srcs,
+        this.worker,
+        this.basePath,
+        this.name,
+        newValue,
+        this.labels,
+        this.depsQuery,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsLibraryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new JsLibraryDescriptionArg(
+        this.extraArgs,
+        this.srcs,
+        this.worker,
+        this.basePath,
+        this.name,
+        newValue,
+        this.labels,
+        this.depsQuery,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsLibraryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new JsLibraryDescriptionArg(
+        this.extraArgs,
+        this.srcs,
+        this.worker,
+        this.basePath,
+        this.name,
+        this.licenses,
+        newValue,
+        this.depsQuery,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsLibraryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new JsLibraryDescriptionArg(
+        this.extraArgs,
+        this.srcs,
+        this.worker,
+        this.basePath,
+        this.name,
+        this.licenses,
+        newValue,
+        this.depsQuery,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getDepsQuery() depsQuery} attribute.
+   * @param value The value for depsQuery
+   * @return A modified copy of {@code this} object
+   */
+  public final JsLibraryDescriptionArg withDepsQuery(Query value) {
+    @Nullable Query newValue = Objects.requireNonNull(value, "depsQuery");
+    if (this.depsQuery == newValue) return this;
+    return new JsLibraryDescriptionArg(
+        this.extraArgs,
+        this.srcs,
+        this.worker,
+        this.basePath,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getDepsQuery() depsQuery} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for depsQuery
+   * @return A modified copy of {@code this} object
+   */
+  public final JsLibraryDescriptionArg withDepsQuery(Optional<? extends Query> optional) {
+    @Nullable Query value = optional.orElse(null);
+    if (this.depsQuery == value) return this;
+    return new JsLibraryDescriptionArg(
+        this.extraArgs,
+        this.srcs,
+        this.worker,
+        this.basePath,
+        this.name,
+        this.licenses,
+        this.labels,
+        value,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsLibraryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new JsLibraryDescriptionArg(
+        this.extraArgs,
+        this.srcs,
+        this.worker,
+        this.basePath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsLibraryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new JsLibraryDescriptionArg(
+        this.extraArgs,
+        this.srcs,
+        this.worker,
+        this.basePath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getTests() tests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsLibraryDescriptionArg withTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new JsLibraryDescriptionArg(
+        this.extraArgs,
+        this.srcs,
+        this.worker,
+        this.basePath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getTests() tests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of tests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JsLibraryDescriptionArg withTests(Iterable<? extends BuildTarget> elements) {
+    if (this.tests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new JsLibraryDescriptionArg(
+        this.extraArgs,
+        this.srcs,
+        this.worker,
+        this.basePath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.depsQuery,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JsLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JsLibraryDescriptionArg
+        && equalTo((JsLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(JsLibraryDescriptionArg another) {
+    return Objects.equals(extraArgs, another.extraArgs)
+        && srcs.equals(another.srcs)
+        && worker.equals(another.worker)
+        && Objects.equals(basePath, another.basePath)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(depsQuery, another.depsQuery)
+        && deps.equals(another.deps)
+        && tests.equals(another.tests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code extraArgs}, {@code srcs}, {@code worker}, {@code basePath}, {@code name}, {@code licenses}, {@code labels}, {@code depsQuery}, {@code deps}, {@code tests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(extraArgs);
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + worker.hashCode();
+    h += (h << 5) + Objects.hashCode(basePath);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(depsQuery);
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + tests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JsLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JsLibraryDescriptionArg")
+        .omitNullValues()
+        .add("extraArgs", extraArgs)
+        .add("srcs", srcs)
+        .add("worker", worker)
+        .add("basePath", basePath)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("depsQuery", depsQuery)
+        .add("deps", deps)
+        .add("tests", tests)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable JsLibraryDescriptionArg instance
+   */
+  static JsLibraryDescriptionArg copyOf(JsLibraryDescription.AbstractJsLibraryDescriptionArg instance) {
+    if (instance instanceof JsLibraryDescriptionArg) {
+      return (JsLibraryDescriptionArg) instance;
+    }
+    return JsLibraryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link JsLibraryDescriptionArg JsLibraryDescriptionArg}.
+   * @return A new JsLibraryDescriptionArg builder
+   */
+  public static JsLibraryDescriptionArg.Builder builder() {
+    return new JsLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link JsLibraryDescriptionArg JsLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_WORKER = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String extraArgs;
+    private ImmutableSet.Builder<Either<SourcePath, Pair<SourcePath, String>>> srcs = ImmutableSet.builder();
+    private @Nullable BuildTarget worker;
+    private @Nullable String basePath;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable Query depsQuery;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JsLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(JsLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractJsLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(JsLibraryDescription.AbstractJsLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDepsQuery} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDepsQuery instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof JsLibraryDescription.AbstractJsLibraryDescriptionArg) {
+        JsLibraryDescription.AbstractJsLibraryDescriptionArg instance = (JsLibraryDescription.AbstractJsLibraryDescriptionArg) object;
+        addAllSrcs(instance.getSrcs());
+        Optional<String> extraArgsOptional = instance.getExtraArgs();
+        if (extraArgsOptional.isPresent()) {
+          setExtraArgs(extraArgsOptional);
+        }
+        Optional<String> basePathOptional = instance.getBasePath();
+        if (basePathOptional.isPresent()) {
+          setBasePath(basePathOptional);
+        }
+        setWorker(instance.getWorker());
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDepsQuery) {
+        HasDepsQuery instance = (HasDepsQuery) object;
+        Optional<Query> depsQueryOptional = instance.getDepsQuery();
+        if (depsQueryOptional.isPresent()) {
+          setDepsQuery(depsQueryOptional);
+        }
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getExtraArgs() extraArgs} to extraArgs.
+     * @param extraArgs The value for extraArgs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExtraArgs(String extraArgs) {
+      this.extraArgs = Objects.requireNonNull(extraArgs, "extraArgs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getExtraArgs() extraArgs} to extraArgs.
+     * @param extraArgs The value for extraArgs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtraArgs(Optional<String> extraArgs) {
+      this.extraArgs = extraArgs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getSrcs() srcs} set.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(Either<SourcePath, Pair<SourcePath, String>> element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getSrcs() srcs} set.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @SafeVarargs @SuppressWarnings("varargs")
+    public final Builder addSrcs(Either<SourcePath, Pair<SourcePath, String>>... elements) {
+      this.srcs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getSrcs() srcs} set.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends Either<SourcePath, Pair<SourcePath, String>>> elements) {
+      this.srcs = ImmutableSet.builder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getSrcs() srcs} set.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends Either<SourcePath, Pair<SourcePath, String>>> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getWorker() worker} attribute.
+     * @param worker The value for worker 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWorker(BuildTarget worker) {
+      this.worker = Objects.requireNonNull(worker, "worker");
+      initBits &= ~INIT_BIT_WORKER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getBasePath() basePath} to basePath.
+     * @param basePath The value for basePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBasePath(String basePath) {
+      this.basePath = Objects.requireNonNull(basePath, "basePath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getBasePath() basePath} to basePath.
+     * @param basePath The value for basePath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBasePath(Optional<String> basePath) {
+      this.basePath = basePath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getDepsQuery() depsQuery} to depsQuery.
+     * @param depsQuery The value for depsQuery
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDepsQuery(Query depsQuery) {
+      this.depsQuery = Objects.requireNonNull(depsQuery, "depsQuery");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getDepsQuery() depsQuery} to depsQuery.
+     * @param depsQuery The value for depsQuery
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDepsQuery(Optional<? extends Query> depsQuery) {
+      this.depsQuery = depsQuery.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link JsLibraryDescription.AbstractJsLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link JsLibraryDescriptionArg JsLibraryDescriptionArg}.
+     * @return An immutable instance of JsLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JsLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new JsLibraryDescriptionArg(
+          extraArgs,
+          srcs.build(),
+          worker,
+          basePath,
+          name,
+          licenses.build(),
+          labels.build(),
+          depsQuery,
+          deps.build(),
+          tests.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_WORKER) != 0) attributes.add("worker");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build JsLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,2271 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Either;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ExampleJvmLibraryArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg"})
+@Immutable
+public final class ExampleJvmLibraryArg
+    implements JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg {
+  private final ImmutableSortedSet<BuildTarget> annotationProcessorDeps;
+  private final @Nullable Boolean annotationProcessorOnly;
+  private final ImmutableList<String> annotationProcessorParams;
+  private final ImmutableSet<String> annotationProcessors;
+  private final @Nullable Either<BuiltInJavac, SourcePath> compiler;
+  private final @Nullable String compilerClassName;
+  private final ImmutableList<String> extraArguments;
+  private final @Nullable Boolean generateSourceOnlyAbi;
+  private final @Nullable String javaVersion;
+  private final @Nullable Path javac;
+  private final @Nullable SourcePath javacJar;
+  private final @Nullable JavacSpec javacSpec;
+  private final ImmutableList<BuildTarget> plugins;
+  private final ImmutableSet<Pattern> removeClasses;
+  private final @Nullable String source;
+  private final @Nullable String target;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSet<SourcePath> licenses;
+  private final String name;
+  private final boolean requiredForSourceOnlyAbi;
+
+  private ExampleJvmLibraryArg(ExampleJvmLibraryArg.Builder builder) {
+    this.annotationProcessorDeps = builder.annotationProcessorDeps.build();
+    this.annotationProcessorOnly = builder.annotationProcessorOnly;
+    this.annotationProcessorParams = builder.annotationProcessorParams.build();
+    this.annotationProcessors = builder.annotationProcessors.build();
+    this.compiler = builder.compiler;
+    this.compilerClassName = builder.compilerClassName;
+    this.extraArguments = builder.extraArguments.build();
+    this.generateSourceOnlyAbi = builder.generateSourceOnlyAbi;
+    this.javaVersion = builder.javaVersion;
+    this.javac = builder.javac;
+    this.javacJar = builder.javacJar;
+    this.plugins = builder.plugins.build();
+    this.removeClasses = builder.removeClasses.build();
+    this.source = builder.source;
+    this.target = builder.target;
+    this.labels = builder.labels.build();
+    this.licenses = builder.licenses.build();
+    this.name = builder.name;
+    if (builder.requiredForSourceOnlyAbiIsSet()) {
+      initShim.setRequiredForSourceOnlyAbi(builder.requiredForSourceOnlyAbi);
+    }
+    this.requiredForSourceOnlyAbi = initShim.getRequiredForSourceOnlyAbi();
+    this.javacSpec = initShim.getJavacSpec();
+    this.initShim = null;
+  }
+
+  private ExampleJvmLibraryArg(
+      ImmutableSortedSet<BuildTarget> annotationProcessorDeps,
+      @Nullable Boolean annotationProcessorOnly,
+      ImmutableList<String> annotationProcessorParams,
+      ImmutableSet<String> annotationProcessors,
+      @Nullable Either<BuiltInJavac, SourcePath> compiler,
+      @Nullable String compilerClassName,
+      ImmutableList<String> extraArguments,
+      @Nullable Boolean generateSourceOnlyAbi,
+      @Nullable String javaVersion,
+      @Nullable Path javac,
+      @Nullable SourcePath javacJar,
+      ImmutableList<BuildTarget> plugins,
+      ImmutableSet<Pattern> removeClasses,
+      @Nullable String source,
+      @Nullable String target,
+      ImmutableSortedSet<String> labels,
+      ImmutableSet<SourcePath> licenses,
+      String name,
+      boolean requiredForSourceOnlyAbi) {
+    this.annotationProcessorDeps = annotationProcessorDeps;
+    this.annotationProcessorOnly = annotationProcessorOnly;
+    this.annotationProcessorParams = annotationProcessorParams;
+    this.annotationProcessors = annotationProcessors;
+    this.compiler = compiler;
+    this.compilerClassName = compilerClassName;
+    this.extraArguments = extraArguments;
+    this.generateSourceOnlyAbi = generateSourceOnlyAbi;
+    this.javaVersion = javaVersion;
+    this.javac = javac;
+    this.javacJar = javacJar;
+    this.plugins = plugins;
+    this.removeClasses = removeClasses;
+    this.source = source;
+    this.target = target;
+    this.labels = labels;
+    this.licenses = licenses;
+    this.name = name;
+    this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+    initShim.setRequiredForSourceOnlyAbi(this.requiredForSourceOnlyAbi);
+    this.javacSpec = initShim.getJavacSpec();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private JavacSpec javacSpec;
+    private int javacSpecBuildStage;
+
+    JavacSpec getJavacSpec() {
+      if (javacSpecBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (javacSpecBuildStage == STAGE_UNINITIALIZED) {
+        javacSpecBuildStage = STAGE_INITIALIZING;
+        this.javacSpec = getJavacSpecInitialize();
+        javacSpecBuildStage = STAGE_INITIALIZED;
+      }
+      return this.javacSpec;
+    }
+    private boolean requiredForSourceOnlyAbi;
+    private int requiredForSourceOnlyAbiBuildStage;
+
+    boolean getRequiredForSourceOnlyAbi() {
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_UNINITIALIZED) {
+        requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZING;
+        this.requiredForSourceOnlyAbi = getRequiredForSourceOnlyAbiInitialize();
+        requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+      }
+      return this.requiredForSourceOnlyAbi;
+    }
+
+    void setRequiredForSourceOnlyAbi(boolean requiredForSourceOnlyAbi) {
+      this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+      requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (javacSpecBuildStage == STAGE_INITIALIZING) attributes.add("javacSpec");
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_INITIALIZING) attributes.add("requiredForSourceOnlyAbi");
+      return "Cannot build ExampleJvmLibraryArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private @Nullable JavacSpec getJavacSpecInitialize() {
+    return JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg.super.getJavacSpec();
+  }
+
+  private boolean getRequiredForSourceOnlyAbiInitialize() {
+    return JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg.super.getRequiredForSourceOnlyAbi();
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessorDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getAnnotationProcessorDeps() {
+    return annotationProcessorDeps;
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessorOnly} attribute
+   */
+  @Override
+  public Optional<Boolean> getAnnotationProcessorOnly() {
+    return Optional.ofNullable(annotationProcessorOnly);
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessorParams} attribute
+   */
+  @Override
+  public ImmutableList<String> getAnnotationProcessorParams() {
+    return annotationProcessorParams;
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessors} attribute
+   */
+  @Override
+  public ImmutableSet<String> getAnnotationProcessors() {
+    return annotationProcessors;
+  }
+
+  /**
+   * @return The value of the {@code compiler} attribute
+   */
+  @Override
+  public Optional<Either<BuiltInJavac, SourcePath>> getCompiler() {
+    return Optional.ofNullable(compiler);
+  }
+
+  /**
+   * @return The value of the {@code compilerClassName} attribute
+   */
+  @Override
+  public Optional<String> getCompilerClassName() {
+    return Optional.ofNullable(compilerClassName);
+  }
+
+  /**
+   * @return The value of the {@code extraArguments} attribute
+   */
+  @Override
+  public ImmutableList<String> getExtraArguments() {
+    return extraArguments;
+  }
+
+  /**
+   * @return The value of the {@code generateSourceOnlyAbi} attribute
+   */
+  @Override
+  public Optional<Boolean> getGenerateSourceOnlyAbi() {
+    return Optional.ofNullable(generateSourceOnlyAbi);
+  }
+
+  /**
+   * @return The value of the {@code javaVersion} attribute
+   */
+  @Override
+  public Optional<String> getJavaVersion() {
+    return Optional.ofNullable(javaVersion);
+  }
+
+  /**
+   * @return The value of the {@code javac} attribute
+   */
+  @Override
+  public Optional<Path> getJavac() {
+    return Optional.ofNullable(javac);
+  }
+
+  /**
+   * @return The value of the {@code javacJar} attribute
+   */
+  @Override
+  public Optional<SourcePath> getJavacJar() {
+    return Optional.ofNullable(javacJar);
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code javacSpec} attribute
+   */
+  @Override
+  public @Nullable JavacSpec getJavacSpec() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getJavacSpec()
+        : this.javacSpec;
+  }
+
+  /**
+   * @return The value of the {@code plugins} attribute
+   */
+  @Override
+  public ImmutableList<BuildTarget> getPlugins() {
+    return plugins;
+  }
+
+  /**
+   * @return The value of the {@code removeClasses} attribute
+   */
+  @Override
+  public ImmutableSet<Pattern> getRemoveClasses() {
+    return removeClasses;
+  }
+
+  /**
+   * @return The value of the {@code source} attribute
+   */
+  @Override
+  public Optional<String> getSource() {
+    return Optional.ofNullable(source);
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public Optional<String> getTarget() {
+    return Optional.ofNullable(target);
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code requiredForSourceOnlyAbi} attribute
+   */
+  @Override
+  public boolean getRequiredForSourceOnlyAbi() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRequiredForSourceOnlyAbi()
+        : this.requiredForSourceOnlyAbi;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessorDeps() annotationProcessorDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withAnnotationProcessorDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new ExampleJvmLibraryArg(
+        newValue,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessorDeps() annotationProcessorDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of annotationProcessorDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withAnnotationProcessorDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.annotationProcessorDeps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new ExampleJvmLibraryArg(
+        newValue,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessorOnly() annotationProcessorOnly} attribute.
+   * @param value The value for annotationProcessorOnly
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withAnnotationProcessorOnly(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.annotationProcessorOnly, newValue)) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        newValue,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessorOnly() annotationProcessorOnly} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for annotationProcessorOnly
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withAnnotationProcessorOnly(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.annotationProcessorOnly, value)) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        value,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessorParams() annotationProcessorParams}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withAnnotationProcessorParams(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        newValue,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessorParams() annotationProcessorParams}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of annotationProcessorParams elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withAnnotationProcessorParams(Iterable<String> elements) {
+    if (this.annotationProcessorParams == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        newValue,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessors() annotationProcessors}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withAnnotationProcessors(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        newValue,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessors() annotationProcessors}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of annotationProcessors elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withAnnotationProcessors(Iterable<String> elements) {
+    if (this.annotationProcessors == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        newValue,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getCompiler() compiler} attribute.
+   * @param value The value for compiler
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withCompiler(Either<BuiltInJavac, SourcePath> value) {
+    @Nullable Either<BuiltInJavac, SourcePath> newValue = Objects.requireNonNull(value, "compiler");
+    if (this.compiler == newValue) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        newValue,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getCompiler() compiler} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for compiler
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withCompiler(Optional<? extends Either<BuiltInJavac, SourcePath>> optional) {
+    @Nullable Either<BuiltInJavac, SourcePath> value = optional.orElse(null);
+    if (this.compiler == value) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        value,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getCompilerClassName() compilerClassName} attribute.
+   * @param value The value for compilerClassName
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withCompilerClassName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "compilerClassName");
+    if (Objects.equals(this.compilerClassName, newValue)) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        newValue,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getCompilerClassName() compilerClassName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for compilerClassName
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withCompilerClassName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.compilerClassName, value)) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        value,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getExtraArguments() extraArguments}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withExtraArguments(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        newValue,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getExtraArguments() extraArguments}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of extraArguments elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withExtraArguments(Iterable<String> elements) {
+    if (this.extraArguments == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        newValue,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getGenerateSourceOnlyAbi() generateSourceOnlyAbi} attribute.
+   * @param value The value for generateSourceOnlyAbi
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withGenerateSourceOnlyAbi(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.generateSourceOnlyAbi, newValue)) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        newValue,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getGenerateSourceOnlyAbi() generateSourceOnlyAbi} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for generateSourceOnlyAbi
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withGenerateSourceOnlyAbi(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.generateSourceOnlyAbi, value)) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        value,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getJavaVersion() javaVersion} attribute.
+   * @param value The value for javaVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withJavaVersion(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "javaVersion");
+    if (Objects.equals(this.javaVersion, newValue)) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        newValue,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getJavaVersion() javaVersion} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for javaVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withJavaVersion(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.javaVersion, value)) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        value,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getJavac() javac} attribute.
+   * @param value The value for javac
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withJavac(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "javac");
+    if (this.javac == newValue) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        newValue,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getJavac() javac} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for javac
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withJavac(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.javac == value) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        value,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getJavacJar() javacJar} attribute.
+   * @param value The value for javacJar
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withJavacJar(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "javacJar");
+    if (this.javacJar == newValue) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        newValue,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getJavacJar() javacJar} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for javacJar
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withJavacJar(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.javacJar == value) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        value,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getPlugins() plugins}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withPlugins(BuildTarget... elements) {
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        newValue,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getPlugins() plugins}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of plugins elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withPlugins(Iterable<? extends BuildTarget> elements) {
+    if (this.plugins == elements) return this;
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        newValue,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getRemoveClasses() removeClasses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withRemoveClasses(Pattern... elements) {
+    ImmutableSet<Pattern> newValue = ImmutableSet.copyOf(elements);
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        newValue,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getRemoveClasses() removeClasses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of removeClasses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withRemoveClasses(Iterable<? extends Pattern> elements) {
+    if (this.removeClasses == elements) return this;
+    ImmutableSet<Pattern> newValue = ImmutableSet.copyOf(elements);
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        newValue,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getSource() source} attribute.
+   * @param value The value for source
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withSource(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "source");
+    if (Objects.equals(this.source, newValue)) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        newValue,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getSource() source} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for source
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withSource(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.source, value)) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        value,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getTarget() target} attribute.
+   * @param value The value for target
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withTarget(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "target");
+    if (Objects.equals(this.target, newValue)) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        newValue,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getTarget() target} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for target
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withTarget(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.target, value)) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        value,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        newValue,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        newValue,
+        this.licenses,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        newValue,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleJvmLibraryArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        newValue,
+        this.name,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExampleJvmLibraryArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        newValue,
+        this.requiredForSourceOnlyAbi);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for requiredForSourceOnlyAbi
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExampleJvmLibraryArg withRequiredForSourceOnlyAbi(boolean value) {
+    if (this.requiredForSourceOnlyAbi == value) return this;
+    return new ExampleJvmLibraryArg(
+        this.annotationProcessorDeps,
+        this.annotationProcessorOnly,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.compiler,
+        this.compilerClassName,
+        this.extraArguments,
+        this.generateSourceOnlyAbi,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.plugins,
+        this.removeClasses,
+        this.source,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ExampleJvmLibraryArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ExampleJvmLibraryArg
+        && equalTo((ExampleJvmLibraryArg) another);
+  }
+
+  private boolean equalTo(ExampleJvmLibraryArg another) {
+    return annotationProcessorDeps.equals(another.annotationProcessorDeps)
+        && Objects.equals(annotationProcessorOnly, another.annotationProcessorOnly)
+        && annotationProcessorParams.equals(another.annotationProcessorParams)
+        && annotationProcessors.equals(another.annotationProcessors)
+        && Objects.equals(compiler, another.compiler)
+        && Objects.equals(compilerClassName, another.compilerClassName)
+        && extraArguments.equals(another.extraArguments)
+        && Objects.equals(generateSourceOnlyAbi, another.generateSourceOnlyAbi)
+        && Objects.equals(javaVersion, another.javaVersion)
+        && Objects.equals(javac, another.javac)
+        && Objects.equals(javacJar, another.javacJar)
+        && Objects.equals(javacSpec, another.javacSpec)
+        && plugins.equals(another.plugins)
+        && removeClasses.equals(another.removeClasses)
+        && Objects.equals(source, another.source)
+        && Objects.equals(target, another.target)
+        && labels.equals(another.labels)
+        && licenses.equals(another.licenses)
+        && name.equals(another.name)
+        && requiredForSourceOnlyAbi == another.requiredForSourceOnlyAbi;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code annotationProcessorDeps}, {@code annotationProcessorOnly}, {@code annotationProcessorParams}, {@code annotationProcessors}, {@code compiler}, {@code compilerClassName}, {@code extraArguments}, {@code generateSourceOnlyAbi}, {@code javaVersion}, {@code javac}, {@code javacJar}, {@code javacSpec}, {@code plugins}, {@code removeClasses}, {@code source}, {@code target}, {@code labels}, {@code licenses}, {@code name}, {@code requiredForSourceOnlyAbi}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + annotationProcessorDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(annotationProcessorOnly);
+    h += (h << 5) + annotationProcessorParams.hashCode();
+    h += (h << 5) + annotationProcessors.hashCode();
+    h += (h << 5) + Objects.hashCode(compiler);
+    h += (h << 5) + Objects.hashCode(compilerClassName);
+    h += (h << 5) + extraArguments.hashCode();
+    h += (h << 5) + Objects.hashCode(generateSourceOnlyAbi);
+    h += (h << 5) + Objects.hashCode(javaVersion);
+    h += (h << 5) + Objects.hashCode(javac);
+    h += (h << 5) + Objects.hashCode(javacJar);
+    h += (h << 5) + Objects.hashCode(javacSpec);
+    h += (h << 5) + plugins.hashCode();
+    h += (h << 5) + removeClasses.hashCode();
+    h += (h << 5) + Objects.hashCode(source);
+    h += (h << 5) + Objects.hashCode(target);
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + Booleans.hashCode(requiredForSourceOnlyAbi);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExampleJvmLibraryArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExampleJvmLibraryArg")
+        .omitNullValues()
+        .add("annotationProcessorDeps", annotationProcessorDeps)
+        .add("annotationProcessorOnly", annotationProcessorOnly)
+        .add("annotationProcessorParams", annotationProcessorParams)
+        .add("annotationProcessors", annotationProcessors)
+        .add("compiler", compiler)
+        .add("compilerClassName", compilerClassName)
+        .add("extraArguments", extraArguments)
+        .add("generateSourceOnlyAbi", generateSourceOnlyAbi)
+        .add("javaVersion", javaVersion)
+        .add("javac", javac)
+        .add("javacJar", javacJar)
+        .add("javacSpec", javacSpec)
+        .add("plugins", plugins)
+        .add("removeClasses", removeClasses)
+        .add("source", source)
+        .add("target", target)
+        .add("labels", labels)
+        .add("licenses", licenses)
+        .add("name", name)
+        .add("requiredForSourceOnlyAbi", requiredForSourceOnlyAbi)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ExampleJvmLibraryArg instance
+   */
+  static ExampleJvmLibraryArg copyOf(JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg instance) {
+    if (instance instanceof ExampleJvmLibraryArg) {
+      return (ExampleJvmLibraryArg) instance;
+    }
+    return ExampleJvmLibraryArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ExampleJvmLibraryArg ExampleJvmLibraryArg}.
+   * @return A new ExampleJvmLibraryArg builder
+   */
+  public static ExampleJvmLibraryArg.Builder builder() {
+    return new ExampleJvmLibraryArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ExampleJvmLibraryArg ExampleJvmLibraryArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI = 0x1L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private ImmutableSortedSet.Builder<BuildTarget> annotationProcessorDeps = ImmutableSortedSet.naturalOrder();
+    private @Nullable Boolean annotationProcessorOnly;
+    private ImmutableList.Builder<String> annotationProcessorParams = ImmutableList.builder();
+    private ImmutableSet.Builder<String> annotationProcessors = ImmutableSet.builder();
+    private @Nullable Either<BuiltInJavac, SourcePath> compiler;
+    private @Nullable String compilerClassName;
+    private ImmutableList.Builder<String> extraArguments = ImmutableList.builder();
+    private @Nullable Boolean generateSourceOnlyAbi;
+    private @Nullable String javaVersion;
+    private @Nullable Path javac;
+    private @Nullable SourcePath javacJar;
+    private ImmutableList.Builder<BuildTarget> plugins = ImmutableList.builder();
+    private ImmutableSet.Builder<Pattern> removeClasses = ImmutableSet.builder();
+    private @Nullable String source;
+    private @Nullable String target;
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private @Nullable String name;
+    private boolean requiredForSourceOnlyAbi;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.JvmLibraryArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(JvmLibraryArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.MaybeRequiredForSourceOnlyAbiArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(MaybeRequiredForSourceOnlyAbiArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ExampleJvmLibraryArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ExampleJvmLibraryArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractExampleJvmLibraryArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof JvmLibraryArg) {
+        JvmLibraryArg instance = (JvmLibraryArg) object;
+        addAllRemoveClasses(instance.getRemoveClasses());
+        addAllAnnotationProcessorParams(instance.getAnnotationProcessorParams());
+        Optional<Path> javacOptional = instance.getJavac();
+        if (javacOptional.isPresent()) {
+          setJavac(javacOptional);
+        }
+        Optional<SourcePath> javacJarOptional = instance.getJavacJar();
+        if (javacJarOptional.isPresent()) {
+          setJavacJar(javacJarOptional);
+        }
+        Optional<String> javaVersionOptional = instance.getJavaVersion();
+        if (javaVersionOptional.isPresent()) {
+          setJavaVersion(javaVersionOptional);
+        }
+        addAllPlugins(instance.getPlugins());
+        addAllAnnotationProcessorDeps(instance.getAnnotationProcessorDeps());
+        Optional<Boolean> annotationProcessorOnlyOptional = instance.getAnnotationProcessorOnly();
+        if (annotationProcessorOnlyOptional.isPresent()) {
+          setAnnotationProcessorOnly(annotationProcessorOnlyOptional);
+        }
+        Optional<String> sourceOptional = instance.getSource();
+        if (sourceOptional.isPresent()) {
+          setSource(sourceOptional);
+        }
+        addAllAnnotationProcessors(instance.getAnnotationProcessors());
+        Optional<String> targetOptional = instance.getTarget();
+        if (targetOptional.isPresent()) {
+          setTarget(targetOptional);
+        }
+        addAllExtraArguments(instance.getExtraArguments());
+        Optional<String> compilerClassNameOptional = instance.getCompilerClassName();
+        if (compilerClassNameOptional.isPresent()) {
+          setCompilerClassName(compilerClassNameOptional);
+        }
+        Optional<Either<BuiltInJavac, SourcePath>> compilerOptional = instance.getCompiler();
+        if (compilerOptional.isPresent()) {
+          setCompiler(compilerOptional);
+        }
+        Optional<Boolean> generateSourceOnlyAbiOptional = instance.getGenerateSourceOnlyAbi();
+        if (generateSourceOnlyAbiOptional.isPresent()) {
+          setGenerateSourceOnlyAbi(generateSourceOnlyAbiOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof MaybeRequiredForSourceOnlyAbiArg) {
+        MaybeRequiredForSourceOnlyAbiArg instance = (MaybeRequiredForSourceOnlyAbiArg) object;
+        setRequiredForSourceOnlyAbi(instance.getRequiredForSourceOnlyAbi());
+      }
+    }
+
+    /**
+     * Adds one element to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessorDeps() annotationProcessorDeps} sortedSet.
+     * @param element A annotationProcessorDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAnnotationProcessorDeps(BuildTarget element) {
+      this.annotationProcessorDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessorDeps() annotationProcessorDeps} sortedSet.
+     * @param elements An array of annotationProcessorDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAnnotationProcessorDeps(BuildTarget... elements) {
+      this.annotationProcessorDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessorDeps() annotationProcessorDeps} sortedSet.
+     * @param elements An iterable of annotationProcessorDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAnnotationProcessorDeps(Iterable<? extends BuildTarget> elements) {
+      this.annotationProcessorDeps = ImmutableSortedSet.naturalOrder();
+      return addAllAnnotationProcessorDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessorDeps() annotationProcessorDeps} sortedSet.
+     * @param elements An iterable of annotationProcessorDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllAnnotationProcessorDeps(Iterable<? extends BuildTarget> elements) {
+      this.annotationProcessorDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessorOnly() annotationProcessorOnly} to annotationProcessorOnly.
+     * @param annotationProcessorOnly The value for annotationProcessorOnly
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAnnotationProcessorOnly(boolean annotationProcessorOnly) {
+      this.annotationProcessorOnly = annotationProcessorOnly;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessorOnly() annotationProcessorOnly} to annotationProcessorOnly.
+     * @param annotationProcessorOnly The value for annotationProcessorOnly
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAnnotationProcessorOnly(Optional<Boolean> annotationProcessorOnly) {
+      this.annotationProcessorOnly = annotationProcessorOnly.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessorParams() annotationProcessorParams} list.
+     * @param element A annotationProcessorParams element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAnnotationProcessorParams(String element) {
+      this.annotationProcessorParams.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessorParams() annotationProcessorParams} list.
+     * @param elements An array of annotationProcessorParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAnnotationProcessorParams(String... elements) {
+      this.annotationProcessorParams.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessorParams() annotationProcessorParams} list.
+     * @param elements An iterable of annotationProcessorParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAnnotationProcessorParams(Iterable<String> elements) {
+      this.annotationProcessorParams = ImmutableList.builder();
+      return addAllAnnotationProcessorParams(elements);
+    }
+
+    /**
+     * Adds elements to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessorParams() annotationProcessorParams} list.
+     * @param elements An iterable of annotationProcessorParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllAnnotationProcessorParams(Iterable<String> elements) {
+      this.annotationProcessorParams.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessors() annotationProcessors} set.
+     * @param element A annotationProcessors element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAnnotationProcessors(String element) {
+      this.annotationProcessors.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessors() annotationProcessors} set.
+     * @param elements An array of annotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAnnotationProcessors(String... elements) {
+      this.annotationProcessors.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessors() annotationProcessors} set.
+     * @param elements An iterable of annotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAnnotationProcessors(Iterable<String> elements) {
+      this.annotationProcessors = ImmutableSet.builder();
+      return addAllAnnotationProcessors(elements);
+    }
+
+    /**
+     * Adds elements to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getAnnotationProcessors() annotationProcessors} set.
+     * @param elements An iterable of annotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllAnnotationProcessors(Iterable<String> elements) {
+      this.annotationProcessors.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getCompiler() compiler} to compiler.
+     * @param compiler The value for compiler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCompiler(Either<BuiltInJavac, SourcePath> compiler) {
+      this.compiler = Objects.requireNonNull(compiler, "compiler");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getCompiler() compiler} to compiler.
+     * @param compiler The value for compiler
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompiler(Optional<? extends Either<BuiltInJavac, SourcePath>> compiler) {
+      this.compiler = compiler.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getCompilerClassName() compilerClassName} to compilerClassName.
+     * @param compilerClassName The value for compilerClassName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCompilerClassName(String compilerClassName) {
+      this.compilerClassName = Objects.requireNonNull(compilerClassName, "compilerClassName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getCompilerClassName() compilerClassName} to compilerClassName.
+     * @param compilerClassName The value for compilerClassName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilerClassName(Optional<String> compilerClassName) {
+      this.compilerClassName = compilerClassName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getExtraArguments() extraArguments} list.
+     * @param element A extraArguments element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraArguments(String element) {
+      this.extraArguments.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getExtraArguments() extraArguments} list.
+     * @param elements An array of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraArguments(String... elements) {
+      this.extraArguments.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getExtraArguments() extraArguments} list.
+     * @param elements An iterable of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtraArguments(Iterable<String> elements) {
+      this.extraArguments = ImmutableList.builder();
+      return addAllExtraArguments(elements);
+    }
+
+    /**
+     * Adds elements to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getExtraArguments() extraArguments} list.
+     * @param elements An iterable of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExtraArguments(Iterable<String> elements) {
+      this.extraArguments.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getGenerateSourceOnlyAbi() generateSourceOnlyAbi} to generateSourceOnlyAbi.
+     * @param generateSourceOnlyAbi The value for generateSourceOnlyAbi
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setGenerateSourceOnlyAbi(boolean generateSourceOnlyAbi) {
+      this.generateSourceOnlyAbi = generateSourceOnlyAbi;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getGenerateSourceOnlyAbi() generateSourceOnlyAbi} to generateSourceOnlyAbi.
+     * @param generateSourceOnlyAbi The value for generateSourceOnlyAbi
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGenerateSourceOnlyAbi(Optional<Boolean> generateSourceOnlyAbi) {
+      this.generateSourceOnlyAbi = generateSourceOnlyAbi.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getJavaVersion() javaVersion} to javaVersion.
+     * @param javaVersion The value for javaVersion
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavaVersion(String javaVersion) {
+      this.javaVersion = Objects.requireNonNull(javaVersion, "javaVersion");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getJavaVersion() javaVersion} to javaVersion.
+     * @param javaVersion The value for javaVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavaVersion(Optional<String> javaVersion) {
+      this.javaVersion = javaVersion.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getJavac() javac} to javac.
+     * @param javac The value for javac
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavac(Path javac) {
+      this.javac = Objects.requireNonNull(javac, "javac");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getJavac() javac} to javac.
+     * @param javac The value for javac
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavac(Optional<? extends Path> javac) {
+      this.javac = javac.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getJavacJar() javacJar} to javacJar.
+     * @param javacJar The value for javacJar
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavacJar(SourcePath javacJar) {
+      this.javacJar = Objects.requireNonNull(javacJar, "javacJar");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getJavacJar() javacJar} to javacJar.
+     * @param javacJar The value for javacJar
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavacJar(Optional<? extends SourcePath> javacJar) {
+      this.javacJar = javacJar.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getPlugins() plugins} list.
+     * @param element A plugins element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPlugins(BuildTarget element) {
+      this.plugins.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getPlugins() plugins} list.
+     * @param elements An array of plugins elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPlugins(BuildTarget... elements) {
+      this.plugins.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getPlugins() plugins} list.
+     * @param elements An iterable of plugins elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlugins(Iterable<? extends BuildTarget> elements) {
+      this.plugins = ImmutableList.builder();
+      return addAllPlugins(elements);
+    }
+
+    /**
+     * Adds elements to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getPlugins() plugins} list.
+     * @param elements An iterable of plugins elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPlugins(Iterable<? extends BuildTarget> elements) {
+      this.plugins.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getRemoveClasses() removeClasses} set.
+     * @param element A removeClasses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRemoveClasses(Pattern element) {
+      this.removeClasses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getRemoveClasses() removeClasses} set.
+     * @param elements An array of removeClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRemoveClasses(Pattern... elements) {
+      this.removeClasses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getRemoveClasses() removeClasses} set.
+     * @param elements An iterable of removeClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRemoveClasses(Iterable<? extends Pattern> elements) {
+      this.removeClasses = ImmutableSet.builder();
+      return addAllRemoveClasses(elements);
+    }
+
+    /**
+     * Adds elements to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getRemoveClasses() removeClasses} set.
+     * @param elements An iterable of removeClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllRemoveClasses(Iterable<? extends Pattern> elements) {
+      this.removeClasses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getSource() source} to source.
+     * @param source The value for source
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSource(String source) {
+      this.source = Objects.requireNonNull(source, "source");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getSource() source} to source.
+     * @param source The value for source
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSource(Optional<String> source) {
+      this.source = source.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getTarget() target} to target.
+     * @param target The value for target
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTarget(String target) {
+      this.target = Objects.requireNonNull(target, "target");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getTarget() target} to target.
+     * @param target The value for target
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTarget(Optional<String> target) {
+      this.target = target.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JvmLibraryArgInterpreterTest.AbstractExampleJvmLibraryArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi}.</em>
+     * @param requiredForSourceOnlyAbi The value for requiredForSourceOnlyAbi 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRequiredForSourceOnlyAbi(boolean requiredForSourceOnlyAbi) {
+      this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+      optBits |= OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link ExampleJvmLibraryArg ExampleJvmLibraryArg}.
+     * @return An immutable instance of ExampleJvmLibraryArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ExampleJvmLibraryArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ExampleJvmLibraryArg(this);
+    }
+
+    private boolean requiredForSourceOnlyAbiIsSet() {
+      return (optBits & OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build ExampleJvmLibraryArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
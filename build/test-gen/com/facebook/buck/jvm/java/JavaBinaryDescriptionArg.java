@@ -0,0 +1,1312 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Flavor;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasTests;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code JavaBinaryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "JavaBinaryDescription.AbstractJavaBinaryDescriptionArg"})
+@Immutable
+public final class JavaBinaryDescriptionArg
+    implements JavaBinaryDescription.AbstractJavaBinaryDescriptionArg {
+  private final @Nullable String mainClass;
+  private final @Nullable SourcePath manifestFile;
+  private final @Nullable Boolean mergeManifests;
+  private final @Nullable Boolean disallowAllDuplicates;
+  private final @Nullable Path metaInfDirectory;
+  private final ImmutableSet<Pattern> blacklist;
+  private final @Nullable Flavor defaultCxxPlatform;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<BuildTarget> tests;
+
+  private JavaBinaryDescriptionArg(
+      @Nullable String mainClass,
+      @Nullable SourcePath manifestFile,
+      @Nullable Boolean mergeManifests,
+      @Nullable Boolean disallowAllDuplicates,
+      @Nullable Path metaInfDirectory,
+      ImmutableSet<Pattern> blacklist,
+      @Nullable Flavor defaultCxxPlatform,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<BuildTarget> tests) {
+    this.mainClass = mainClass;
+    this.manifestFile = manifestFile;
+    this.mergeManifests = mergeManifests;
+    this.disallowAllDuplicates = disallowAllDuplicates;
+    this.metaInfDirectory = metaInfDirectory;
+    this.blacklist = blacklist;
+    this.defaultCxxPlatform = defaultCxxPlatform;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.tests = tests;
+  }
+
+  /**
+   * @return The value of the {@code mainClass} attribute
+   */
+  @Override
+  public Optional<String> getMainClass() {
+    return Optional.ofNullable(mainClass);
+  }
+
+  /**
+   * @return The value of the {@code manifestFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getManifestFile() {
+    return Optional.ofNullable(manifestFile);
+  }
+
+  /**
+   * @return The value of the {@code mergeManifests} attribute
+   */
+  @Override
+  public Optional<Boolean> getMergeManifests() {
+    return Optional.ofNullable(mergeManifests);
+  }
+
+  /**
+   * @return The value of the {@code disallowAllDuplicates} attribute
+   */
+  @Override
+  public Optional<Boolean> getDisallowAllDuplicates() {
+    return Optional.ofNullable(disallowAllDuplicates);
+  }
+
+  /**
+   * @return The value of the {@code metaInfDirectory} attribute
+   */
+  @Override
+  public Optional<Path> getMetaInfDirectory() {
+    return Optional.ofNullable(metaInfDirectory);
+  }
+
+  /**
+   * @return The value of the {@code blacklist} attribute
+   */
+  @Override
+  public ImmutableSet<Pattern> getBlacklist() {
+    return blacklist;
+  }
+
+  /**
+   * @return The value of the {@code defaultCxxPlatform} attribute
+   */
+  @Override
+  public Optional<Flavor> getDefaultCxxPlatform() {
+    return Optional.ofNullable(defaultCxxPlatform);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getMainClass() mainClass} attribute.
+   * @param value The value for mainClass
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withMainClass(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "mainClass");
+    if (Objects.equals(this.mainClass, newValue)) return this;
+    return new JavaBinaryDescriptionArg(
+        newValue,
+        this.manifestFile,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getMainClass() mainClass} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for mainClass
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withMainClass(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.mainClass, value)) return this;
+    return new JavaBinaryDescriptionArg(
+        value,
+        this.manifestFile,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getManifestFile() manifestFile} attribute.
+   * @param value The value for manifestFile
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withManifestFile(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "manifestFile");
+    if (this.manifestFile == newValue) return this;
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        newValue,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getManifestFile() manifestFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for manifestFile
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withManifestFile(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.manifestFile == value) return this;
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        value,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getMergeManifests() mergeManifests} attribute.
+   * @param value The value for mergeManifests
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withMergeManifests(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.mergeManifests, newValue)) return this;
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        newValue,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getMergeManifests() mergeManifests} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for mergeManifests
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withMergeManifests(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.mergeManifests, value)) return this;
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        value,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getDisallowAllDuplicates() disallowAllDuplicates} attribute.
+   * @param value The value for disallowAllDuplicates
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withDisallowAllDuplicates(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.disallowAllDuplicates, newValue)) return this;
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        this.mergeManifests,
+        newValue,
+        this.metaInfDirectory,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getDisallowAllDuplicates() disallowAllDuplicates} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for disallowAllDuplicates
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withDisallowAllDuplicates(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.disallowAllDuplicates, value)) return this;
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        this.mergeManifests,
+        value,
+        this.metaInfDirectory,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getMetaInfDirectory() metaInfDirectory} attribute.
+   * @param value The value for metaInfDirectory
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withMetaInfDirectory(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "metaInfDirectory");
+    if (this.metaInfDirectory == newValue) return this;
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        newValue,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getMetaInfDirectory() metaInfDirectory} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for metaInfDirectory
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withMetaInfDirectory(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.metaInfDirectory == value) return this;
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        value,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getBlacklist() blacklist}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withBlacklist(Pattern... elements) {
+    ImmutableSet<Pattern> newValue = ImmutableSet.copyOf(elements);
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        newValue,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getBlacklist() blacklist}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of blacklist elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withBlacklist(Iterable<? extends Pattern> elements) {
+    if (this.blacklist == elements) return this;
+    ImmutableSet<Pattern> newValue = ImmutableSet.copyOf(elements);
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        newValue,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getDefaultCxxPlatform() defaultCxxPlatform} attribute.
+   * @param value The value for defaultCxxPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withDefaultCxxPlatform(Flavor value) {
+    @Nullable Flavor newValue = Objects.requireNonNull(value, "defaultCxxPlatform");
+    if (this.defaultCxxPlatform == newValue) return this;
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        this.blacklist,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getDefaultCxxPlatform() defaultCxxPlatform} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for defaultCxxPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withDefaultCxxPlatform(Optional<? extends Flavor> optional) {
+    @Nullable Flavor value = optional.orElse(null);
+    if (this.defaultCxxPlatform == value) return this;
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        this.blacklist,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getTests() tests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getTests() tests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of tests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavaBinaryDescriptionArg withTests(Iterable<? extends BuildTarget> elements) {
+    if (this.tests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new JavaBinaryDescriptionArg(
+        this.mainClass,
+        this.manifestFile,
+        this.mergeManifests,
+        this.disallowAllDuplicates,
+        this.metaInfDirectory,
+        this.blacklist,
+        this.defaultCxxPlatform,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JavaBinaryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JavaBinaryDescriptionArg
+        && equalTo((JavaBinaryDescriptionArg) another);
+  }
+
+  private boolean equalTo(JavaBinaryDescriptionArg another) {
+    return Objects.equals(mainClass, another.mainClass)
+        && Objects.equals(manifestFile, another.manifestFile)
+        && Objects.equals(mergeManifests, another.mergeManifests)
+        && Objects.equals(disallowAllDuplicates, another.disallowAllDuplicates)
+        && Objects.equals(metaInfDirectory, another.metaInfDirectory)
+        && blacklist.equals(another.blacklist)
+        && Objects.equals(defaultCxxPlatform, another.defaultCxxPlatform)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && tests.equals(another.tests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code mainClass}, {@code manifestFile}, {@code mergeManifests}, {@code disallowAllDuplicates}, {@code metaInfDirectory}, {@code blacklist}, {@code defaultCxxPlatform}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code tests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(mainClass);
+    h += (h << 5) + Objects.hashCode(manifestFile);
+    h += (h << 5) + Objects.hashCode(mergeManifests);
+    h += (h << 5) + Objects.hashCode(disallowAllDuplicates);
+    h += (h << 5) + Objects.hashCode(metaInfDirectory);
+    h += (h << 5) + blacklist.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultCxxPlatform);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + tests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavaBinaryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavaBinaryDescriptionArg")
+        .omitNullValues()
+        .add("mainClass", mainClass)
+        .add("manifestFile", manifestFile)
+        .add("mergeManifests", mergeManifests)
+        .add("disallowAllDuplicates", disallowAllDuplicates)
+        .add("metaInfDirectory", metaInfDirectory)
+        .add("blacklist", blacklist)
+        .add("defaultCxxPlatform", defaultCxxPlatform)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("tests", tests)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable JavaBinaryDescriptionArg instance
+   */
+  static JavaBinaryDescriptionArg copyOf(JavaBinaryDescription.AbstractJavaBinaryDescriptionArg instance) {
+    if (instance instanceof JavaBinaryDescriptionArg) {
+      return (JavaBinaryDescriptionArg) instance;
+    }
+    return JavaBinaryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link JavaBinaryDescriptionArg JavaBinaryDescriptionArg}.
+   * @return A new JavaBinaryDescriptionArg builder
+   */
+  public static JavaBinaryDescriptionArg.Builder builder() {
+    return new JavaBinaryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link JavaBinaryDescriptionArg JavaBinaryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String mainClass;
+    private @Nullable SourcePath manifestFile;
+    private @Nullable Boolean mergeManifests;
+    private @Nullable Boolean disallowAllDuplicates;
+    private @Nullable Path metaInfDirectory;
+    private ImmutableSet.Builder<Pattern> blacklist = ImmutableSet.builder();
+    private @Nullable Flavor defaultCxxPlatform;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JavaBinaryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(JavaBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractJavaBinaryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(JavaBinaryDescription.AbstractJavaBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof JavaBinaryDescription.AbstractJavaBinaryDescriptionArg) {
+        JavaBinaryDescription.AbstractJavaBinaryDescriptionArg instance = (JavaBinaryDescription.AbstractJavaBinaryDescriptionArg) object;
+        Optional<SourcePath> manifestFileOptional = instance.getManifestFile();
+        if (manifestFileOptional.isPresent()) {
+          setManifestFile(manifestFileOptional);
+        }
+        Optional<Path> metaInfDirectoryOptional = instance.getMetaInfDirectory();
+        if (metaInfDirectoryOptional.isPresent()) {
+          setMetaInfDirectory(metaInfDirectoryOptional);
+        }
+        Optional<Boolean> disallowAllDuplicatesOptional = instance.getDisallowAllDuplicates();
+        if (disallowAllDuplicatesOptional.isPresent()) {
+          setDisallowAllDuplicates(disallowAllDuplicatesOptional);
+        }
+        Optional<String> mainClassOptional = instance.getMainClass();
+        if (mainClassOptional.isPresent()) {
+          setMainClass(mainClassOptional);
+        }
+        Optional<Boolean> mergeManifestsOptional = instance.getMergeManifests();
+        if (mergeManifestsOptional.isPresent()) {
+          setMergeManifests(mergeManifestsOptional);
+        }
+        addAllBlacklist(instance.getBlacklist());
+        Optional<Flavor> defaultCxxPlatformOptional = instance.getDefaultCxxPlatform();
+        if (defaultCxxPlatformOptional.isPresent()) {
+          setDefaultCxxPlatform(defaultCxxPlatformOptional);
+        }
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getMainClass() mainClass} to mainClass.
+     * @param mainClass The value for mainClass
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMainClass(String mainClass) {
+      this.mainClass = Objects.requireNonNull(mainClass, "mainClass");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getMainClass() mainClass} to mainClass.
+     * @param mainClass The value for mainClass
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMainClass(Optional<String> mainClass) {
+      this.mainClass = mainClass.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getManifestFile() manifestFile} to manifestFile.
+     * @param manifestFile The value for manifestFile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setManifestFile(SourcePath manifestFile) {
+      this.manifestFile = Objects.requireNonNull(manifestFile, "manifestFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getManifestFile() manifestFile} to manifestFile.
+     * @param manifestFile The value for manifestFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setManifestFile(Optional<? extends SourcePath> manifestFile) {
+      this.manifestFile = manifestFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getMergeManifests() mergeManifests} to mergeManifests.
+     * @param mergeManifests The value for mergeManifests
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMergeManifests(boolean mergeManifests) {
+      this.mergeManifests = mergeManifests;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getMergeManifests() mergeManifests} to mergeManifests.
+     * @param mergeManifests The value for mergeManifests
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMergeManifests(Optional<Boolean> mergeManifests) {
+      this.mergeManifests = mergeManifests.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getDisallowAllDuplicates() disallowAllDuplicates} to disallowAllDuplicates.
+     * @param disallowAllDuplicates The value for disallowAllDuplicates
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDisallowAllDuplicates(boolean disallowAllDuplicates) {
+      this.disallowAllDuplicates = disallowAllDuplicates;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getDisallowAllDuplicates() disallowAllDuplicates} to disallowAllDuplicates.
+     * @param disallowAllDuplicates The value for disallowAllDuplicates
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDisallowAllDuplicates(Optional<Boolean> disallowAllDuplicates) {
+      this.disallowAllDuplicates = disallowAllDuplicates.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getMetaInfDirectory() metaInfDirectory} to metaInfDirectory.
+     * @param metaInfDirectory The value for metaInfDirectory
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMetaInfDirectory(Path metaInfDirectory) {
+      this.metaInfDirectory = Objects.requireNonNull(metaInfDirectory, "metaInfDirectory");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getMetaInfDirectory() metaInfDirectory} to metaInfDirectory.
+     * @param metaInfDirectory The value for metaInfDirectory
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMetaInfDirectory(Optional<? extends Path> metaInfDirectory) {
+      this.metaInfDirectory = metaInfDirectory.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getBlacklist() blacklist} set.
+     * @param element A blacklist element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBlacklist(Pattern element) {
+      this.blacklist.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getBlacklist() blacklist} set.
+     * @param elements An array of blacklist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBlacklist(Pattern... elements) {
+      this.blacklist.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getBlacklist() blacklist} set.
+     * @param elements An iterable of blacklist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBlacklist(Iterable<? extends Pattern> elements) {
+      this.blacklist = ImmutableSet.builder();
+      return addAllBlacklist(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getBlacklist() blacklist} set.
+     * @param elements An iterable of blacklist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllBlacklist(Iterable<? extends Pattern> elements) {
+      this.blacklist.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getDefaultCxxPlatform() defaultCxxPlatform} to defaultCxxPlatform.
+     * @param defaultCxxPlatform The value for defaultCxxPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDefaultCxxPlatform(Flavor defaultCxxPlatform) {
+      this.defaultCxxPlatform = Objects.requireNonNull(defaultCxxPlatform, "defaultCxxPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getDefaultCxxPlatform() defaultCxxPlatform} to defaultCxxPlatform.
+     * @param defaultCxxPlatform The value for defaultCxxPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDefaultCxxPlatform(Optional<? extends Flavor> defaultCxxPlatform) {
+      this.defaultCxxPlatform = defaultCxxPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaBinaryDescription.AbstractJavaBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link JavaBinaryDescriptionArg JavaBinaryDescriptionArg}.
+     * @return An immutable instance of JavaBinaryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JavaBinaryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new JavaBinaryDescriptionArg(
+          mainClass,
+          manifestFile,
+          mergeManifests,
+          disallowAllDuplicates,
+          metaInfDirectory,
+          blacklist.build(),
+          defaultCxxPlatform,
+          name,
+          licenses.build(),
+          labels.build(),
+          deps.build(),
+          tests.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build JavaBinaryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,1160 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PrebuiltJarDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg"})
+@Immutable
+public final class PrebuiltJarDescriptionArg
+    implements PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg {
+  private final SourcePath binaryJar;
+  private final @Nullable SourcePath sourceJar;
+  private final @Nullable SourcePath gwtJar;
+  private final @Nullable String javadocUrl;
+  private final @Nullable String mavenCoords;
+  private final boolean provided;
+  private final boolean requiredForSourceOnlyAbi;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private PrebuiltJarDescriptionArg(PrebuiltJarDescriptionArg.Builder builder) {
+    this.binaryJar = builder.binaryJar;
+    this.sourceJar = builder.sourceJar;
+    this.gwtJar = builder.gwtJar;
+    this.javadocUrl = builder.javadocUrl;
+    this.mavenCoords = builder.mavenCoords;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    if (builder.providedIsSet()) {
+      initShim.setProvided(builder.provided);
+    }
+    if (builder.requiredForSourceOnlyAbiIsSet()) {
+      initShim.setRequiredForSourceOnlyAbi(builder.requiredForSourceOnlyAbi);
+    }
+    this.provided = initShim.getProvided();
+    this.requiredForSourceOnlyAbi = initShim.getRequiredForSourceOnlyAbi();
+    this.initShim = null;
+  }
+
+  private PrebuiltJarDescriptionArg(
+      SourcePath binaryJar,
+      @Nullable SourcePath sourceJar,
+      @Nullable SourcePath gwtJar,
+      @Nullable String javadocUrl,
+      @Nullable String mavenCoords,
+      boolean provided,
+      boolean requiredForSourceOnlyAbi,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.binaryJar = binaryJar;
+    this.sourceJar = sourceJar;
+    this.gwtJar = gwtJar;
+    this.javadocUrl = javadocUrl;
+    this.mavenCoords = mavenCoords;
+    this.provided = provided;
+    this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean provided;
+    private int providedBuildStage;
+
+    boolean getProvided() {
+      if (providedBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (providedBuildStage == STAGE_UNINITIALIZED) {
+        providedBuildStage = STAGE_INITIALIZING;
+        this.provided = getProvidedInitialize();
+        providedBuildStage = STAGE_INITIALIZED;
+      }
+      return this.provided;
+    }
+
+    void setProvided(boolean provided) {
+      this.provided = provided;
+      providedBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean requiredForSourceOnlyAbi;
+    private int requiredForSourceOnlyAbiBuildStage;
+
+    boolean getRequiredForSourceOnlyAbi() {
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_UNINITIALIZED) {
+        requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZING;
+        this.requiredForSourceOnlyAbi = getRequiredForSourceOnlyAbiInitialize();
+        requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+      }
+      return this.requiredForSourceOnlyAbi;
+    }
+
+    void setRequiredForSourceOnlyAbi(boolean requiredForSourceOnlyAbi) {
+      this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+      requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (providedBuildStage == STAGE_INITIALIZING) attributes.add("provided");
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_INITIALIZING) attributes.add("requiredForSourceOnlyAbi");
+      return "Cannot build PrebuiltJarDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private boolean getProvidedInitialize() {
+    return PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg.super.getProvided();
+  }
+
+  private boolean getRequiredForSourceOnlyAbiInitialize() {
+    return PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg.super.getRequiredForSourceOnlyAbi();
+  }
+
+  /**
+   * @return The value of the {@code binaryJar} attribute
+   */
+  @Override
+  public SourcePath getBinaryJar() {
+    return binaryJar;
+  }
+
+  /**
+   * @return The value of the {@code sourceJar} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSourceJar() {
+    return Optional.ofNullable(sourceJar);
+  }
+
+  /**
+   * @return The value of the {@code gwtJar} attribute
+   */
+  @Override
+  public Optional<SourcePath> getGwtJar() {
+    return Optional.ofNullable(gwtJar);
+  }
+
+  /**
+   * @return The value of the {@code javadocUrl} attribute
+   */
+  @Override
+  public Optional<String> getJavadocUrl() {
+    return Optional.ofNullable(javadocUrl);
+  }
+
+  /**
+   * @return The value of the {@code mavenCoords} attribute
+   */
+  @Override
+  public Optional<String> getMavenCoords() {
+    return Optional.ofNullable(mavenCoords);
+  }
+
+  /**
+   * @return The value of the {@code provided} attribute
+   */
+  @Override
+  public boolean getProvided() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getProvided()
+        : this.provided;
+  }
+
+  /**
+   * @return The value of the {@code requiredForSourceOnlyAbi} attribute
+   */
+  @Override
+  public boolean getRequiredForSourceOnlyAbi() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRequiredForSourceOnlyAbi()
+        : this.requiredForSourceOnlyAbi;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getBinaryJar() binaryJar} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for binaryJar
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withBinaryJar(SourcePath value) {
+    if (this.binaryJar == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "binaryJar");
+    return new PrebuiltJarDescriptionArg(
+        newValue,
+        this.sourceJar,
+        this.gwtJar,
+        this.javadocUrl,
+        this.mavenCoords,
+        this.provided,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getSourceJar() sourceJar} attribute.
+   * @param value The value for sourceJar
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withSourceJar(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "sourceJar");
+    if (this.sourceJar == newValue) return this;
+    return new PrebuiltJarDescriptionArg(
+        this.binaryJar,
+        newValue,
+        this.gwtJar,
+        this.javadocUrl,
+        this.mavenCoords,
+        this.provided,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getSourceJar() sourceJar} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sourceJar
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withSourceJar(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.sourceJar == value) return this;
+    return new PrebuiltJarDescriptionArg(
+        this.binaryJar,
+        value,
+        this.gwtJar,
+        this.javadocUrl,
+        this.mavenCoords,
+        this.provided,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getGwtJar() gwtJar} attribute.
+   * @param value The value for gwtJar
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withGwtJar(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "gwtJar");
+    if (this.gwtJar == newValue) return this;
+    return new PrebuiltJarDescriptionArg(
+        this.binaryJar,
+        this.sourceJar,
+        newValue,
+        this.javadocUrl,
+        this.mavenCoords,
+        this.provided,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getGwtJar() gwtJar} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for gwtJar
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withGwtJar(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.gwtJar == value) return this;
+    return new PrebuiltJarDescriptionArg(
+        this.binaryJar,
+        this.sourceJar,
+        value,
+        this.javadocUrl,
+        this.mavenCoords,
+        this.provided,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getJavadocUrl() javadocUrl} attribute.
+   * @param value The value for javadocUrl
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withJavadocUrl(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "javadocUrl");
+    if (Objects.equals(this.javadocUrl, newValue)) return this;
+    return new PrebuiltJarDescriptionArg(
+        this.binaryJar,
+        this.sourceJar,
+        this.gwtJar,
+        newValue,
+        this.mavenCoords,
+        this.provided,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getJavadocUrl() javadocUrl} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for javadocUrl
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withJavadocUrl(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.javadocUrl, value)) return this;
+    return new PrebuiltJarDescriptionArg(
+        this.binaryJar,
+        this.sourceJar,
+        this.gwtJar,
+        value,
+        this.mavenCoords,
+        this.provided,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getMavenCoords() mavenCoords} attribute.
+   * @param value The value for mavenCoords
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withMavenCoords(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "mavenCoords");
+    if (Objects.equals(this.mavenCoords, newValue)) return this;
+    return new PrebuiltJarDescriptionArg(
+        this.binaryJar,
+        this.sourceJar,
+        this.gwtJar,
+        this.javadocUrl,
+        newValue,
+        this.provided,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getMavenCoords() mavenCoords} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for mavenCoords
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withMavenCoords(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.mavenCoords, value)) return this;
+    return new PrebuiltJarDescriptionArg(
+        this.binaryJar,
+        this.sourceJar,
+        this.gwtJar,
+        this.javadocUrl,
+        value,
+        this.provided,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getProvided() provided} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for provided
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withProvided(boolean value) {
+    if (this.provided == value) return this;
+    return new PrebuiltJarDescriptionArg(
+        this.binaryJar,
+        this.sourceJar,
+        this.gwtJar,
+        this.javadocUrl,
+        this.mavenCoords,
+        value,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for requiredForSourceOnlyAbi
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withRequiredForSourceOnlyAbi(boolean value) {
+    if (this.requiredForSourceOnlyAbi == value) return this;
+    return new PrebuiltJarDescriptionArg(
+        this.binaryJar,
+        this.sourceJar,
+        this.gwtJar,
+        this.javadocUrl,
+        this.mavenCoords,
+        this.provided,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new PrebuiltJarDescriptionArg(
+        this.binaryJar,
+        this.sourceJar,
+        this.gwtJar,
+        this.javadocUrl,
+        this.mavenCoords,
+        this.provided,
+        this.requiredForSourceOnlyAbi,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PrebuiltJarDescriptionArg(
+        this.binaryJar,
+        this.sourceJar,
+        this.gwtJar,
+        this.javadocUrl,
+        this.mavenCoords,
+        this.provided,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PrebuiltJarDescriptionArg(
+        this.binaryJar,
+        this.sourceJar,
+        this.gwtJar,
+        this.javadocUrl,
+        this.mavenCoords,
+        this.provided,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltJarDescriptionArg(
+        this.binaryJar,
+        this.sourceJar,
+        this.gwtJar,
+        this.javadocUrl,
+        this.mavenCoords,
+        this.provided,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new PrebuiltJarDescriptionArg(
+        this.binaryJar,
+        this.sourceJar,
+        this.gwtJar,
+        this.javadocUrl,
+        this.mavenCoords,
+        this.provided,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new PrebuiltJarDescriptionArg(
+        this.binaryJar,
+        this.sourceJar,
+        this.gwtJar,
+        this.javadocUrl,
+        this.mavenCoords,
+        this.provided,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PrebuiltJarDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new PrebuiltJarDescriptionArg(
+        this.binaryJar,
+        this.sourceJar,
+        this.gwtJar,
+        this.javadocUrl,
+        this.mavenCoords,
+        this.provided,
+        this.requiredForSourceOnlyAbi,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PrebuiltJarDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PrebuiltJarDescriptionArg
+        && equalTo((PrebuiltJarDescriptionArg) another);
+  }
+
+  private boolean equalTo(PrebuiltJarDescriptionArg another) {
+    return binaryJar.equals(another.binaryJar)
+        && Objects.equals(sourceJar, another.sourceJar)
+        && Objects.equals(gwtJar, another.gwtJar)
+        && Objects.equals(javadocUrl, another.javadocUrl)
+        && Objects.equals(mavenCoords, another.mavenCoords)
+        && provided == another.provided
+        && requiredForSourceOnlyAbi == another.requiredForSourceOnlyAbi
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code binaryJar}, {@code sourceJar}, {@code gwtJar}, {@code javadocUrl}, {@code mavenCoords}, {@code provided}, {@code requiredForSourceOnlyAbi}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + binaryJar.hashCode();
+    h += (h << 5) + Objects.hashCode(sourceJar);
+    h += (h << 5) + Objects.hashCode(gwtJar);
+    h += (h << 5) + Objects.hashCode(javadocUrl);
+    h += (h << 5) + Objects.hashCode(mavenCoords);
+    h += (h << 5) + Booleans.hashCode(provided);
+    h += (h << 5) + Booleans.hashCode(requiredForSourceOnlyAbi);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PrebuiltJarDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PrebuiltJarDescriptionArg")
+        .omitNullValues()
+        .add("binaryJar", binaryJar)
+        .add("sourceJar", sourceJar)
+        .add("gwtJar", gwtJar)
+        .add("javadocUrl", javadocUrl)
+        .add("mavenCoords", mavenCoords)
+        .add("provided", provided)
+        .add("requiredForSourceOnlyAbi", requiredForSourceOnlyAbi)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PrebuiltJarDescriptionArg instance
+   */
+  static PrebuiltJarDescriptionArg copyOf(PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg instance) {
+    if (instance instanceof PrebuiltJarDescriptionArg) {
+      return (PrebuiltJarDescriptionArg) instance;
+    }
+    return PrebuiltJarDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PrebuiltJarDescriptionArg PrebuiltJarDescriptionArg}.
+   * @return A new PrebuiltJarDescriptionArg builder
+   */
+  public static PrebuiltJarDescriptionArg.Builder builder() {
+    return new PrebuiltJarDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PrebuiltJarDescriptionArg PrebuiltJarDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BINARY_JAR = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private static final long OPT_BIT_PROVIDED = 0x1L;
+    private static final long OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI = 0x2L;
+    private long initBits = 0x3L;
+    private long optBits;
+
+    private @Nullable SourcePath binaryJar;
+    private @Nullable SourcePath sourceJar;
+    private @Nullable SourcePath gwtJar;
+    private @Nullable String javadocUrl;
+    private @Nullable String mavenCoords;
+    private boolean provided;
+    private boolean requiredForSourceOnlyAbi;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PrebuiltJarDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PrebuiltJarDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPrebuiltJarDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.MaybeRequiredForSourceOnlyAbiArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(MaybeRequiredForSourceOnlyAbiArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg) {
+        PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg instance = (PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg) object;
+        Optional<String> mavenCoordsOptional = instance.getMavenCoords();
+        if (mavenCoordsOptional.isPresent()) {
+          setMavenCoords(mavenCoordsOptional);
+        }
+        Optional<SourcePath> gwtJarOptional = instance.getGwtJar();
+        if (gwtJarOptional.isPresent()) {
+          setGwtJar(gwtJarOptional);
+        }
+        Optional<SourcePath> sourceJarOptional = instance.getSourceJar();
+        if (sourceJarOptional.isPresent()) {
+          setSourceJar(sourceJarOptional);
+        }
+        Optional<String> javadocUrlOptional = instance.getJavadocUrl();
+        if (javadocUrlOptional.isPresent()) {
+          setJavadocUrl(javadocUrlOptional);
+        }
+        setProvided(instance.getProvided());
+        setBinaryJar(instance.getBinaryJar());
+        if ((bits & 0x1L) == 0) {
+          setRequiredForSourceOnlyAbi(instance.getRequiredForSourceOnlyAbi());
+          bits |= 0x1L;
+        }
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+      if (object instanceof MaybeRequiredForSourceOnlyAbiArg) {
+        MaybeRequiredForSourceOnlyAbiArg instance = (MaybeRequiredForSourceOnlyAbiArg) object;
+        if ((bits & 0x1L) == 0) {
+          setRequiredForSourceOnlyAbi(instance.getRequiredForSourceOnlyAbi());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getBinaryJar() binaryJar} attribute.
+     * @param binaryJar The value for binaryJar 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBinaryJar(SourcePath binaryJar) {
+      this.binaryJar = Objects.requireNonNull(binaryJar, "binaryJar");
+      initBits &= ~INIT_BIT_BINARY_JAR;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getSourceJar() sourceJar} to sourceJar.
+     * @param sourceJar The value for sourceJar
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceJar(SourcePath sourceJar) {
+      this.sourceJar = Objects.requireNonNull(sourceJar, "sourceJar");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getSourceJar() sourceJar} to sourceJar.
+     * @param sourceJar The value for sourceJar
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourceJar(Optional<? extends SourcePath> sourceJar) {
+      this.sourceJar = sourceJar.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getGwtJar() gwtJar} to gwtJar.
+     * @param gwtJar The value for gwtJar
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setGwtJar(SourcePath gwtJar) {
+      this.gwtJar = Objects.requireNonNull(gwtJar, "gwtJar");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getGwtJar() gwtJar} to gwtJar.
+     * @param gwtJar The value for gwtJar
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGwtJar(Optional<? extends SourcePath> gwtJar) {
+      this.gwtJar = gwtJar.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getJavadocUrl() javadocUrl} to javadocUrl.
+     * @param javadocUrl The value for javadocUrl
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavadocUrl(String javadocUrl) {
+      this.javadocUrl = Objects.requireNonNull(javadocUrl, "javadocUrl");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getJavadocUrl() javadocUrl} to javadocUrl.
+     * @param javadocUrl The value for javadocUrl
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavadocUrl(Optional<String> javadocUrl) {
+      this.javadocUrl = javadocUrl.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getMavenCoords() mavenCoords} to mavenCoords.
+     * @param mavenCoords The value for mavenCoords
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMavenCoords(String mavenCoords) {
+      this.mavenCoords = Objects.requireNonNull(mavenCoords, "mavenCoords");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getMavenCoords() mavenCoords} to mavenCoords.
+     * @param mavenCoords The value for mavenCoords
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMavenCoords(Optional<String> mavenCoords) {
+      this.mavenCoords = mavenCoords.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getProvided() provided} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getProvided() provided}.</em>
+     * @param provided The value for provided 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProvided(boolean provided) {
+      this.provided = provided;
+      optBits |= OPT_BIT_PROVIDED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi}.</em>
+     * @param requiredForSourceOnlyAbi The value for requiredForSourceOnlyAbi 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRequiredForSourceOnlyAbi(boolean requiredForSourceOnlyAbi) {
+      this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+      optBits |= OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PrebuiltJarDescriptionArg PrebuiltJarDescriptionArg}.
+     * @return An immutable instance of PrebuiltJarDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PrebuiltJarDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PrebuiltJarDescriptionArg(this);
+    }
+
+    private boolean providedIsSet() {
+      return (optBits & OPT_BIT_PROVIDED) != 0;
+    }
+
+    private boolean requiredForSourceOnlyAbiIsSet() {
+      return (optBits & OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_BINARY_JAR) != 0) attributes.add("binaryJar");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build PrebuiltJarDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link BuildEngine.AbstractBuildEngineResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code BuildEngineResult.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuildEngine.AbstractBuildEngineResult"})
+@Immutable
+public final class BuildEngineResult extends BuildEngine.AbstractBuildEngineResult {
+  private final ListenableFuture<BuildResult> result;
+
+  private BuildEngineResult(ListenableFuture<BuildResult> result) {
+    this.result = result;
+  }
+
+  /**
+   *@return a future that will contain the result of running the rule 
+   */
+  @Override
+  public ListenableFuture<BuildResult> getResult() {
+    return result;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuildEngine.AbstractBuildEngineResult#getResult() result} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for result
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildEngineResult withResult(ListenableFuture<BuildResult> value) {
+    if (this.result == value) return this;
+    ListenableFuture<BuildResult> newValue = Objects.requireNonNull(value, "result");
+    return new BuildEngineResult(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildEngineResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildEngineResult
+        && equalTo((BuildEngineResult) another);
+  }
+
+  private boolean equalTo(BuildEngineResult another) {
+    return result.equals(another.result);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code result}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + result.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildEngineResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildEngineResult")
+        .omitNullValues()
+        .add("result", result)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link BuildEngine.AbstractBuildEngineResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildEngineResult instance
+   */
+  public static BuildEngineResult copyOf(BuildEngine.AbstractBuildEngineResult instance) {
+    if (instance instanceof BuildEngineResult) {
+      return (BuildEngineResult) instance;
+    }
+    return BuildEngineResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link BuildEngineResult BuildEngineResult}.
+   * @return A new BuildEngineResult builder
+   */
+  public static BuildEngineResult.Builder builder() {
+    return new BuildEngineResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildEngineResult BuildEngineResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_RESULT = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable ListenableFuture<BuildResult> result;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractBuildEngineResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildEngine.AbstractBuildEngineResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setResult(instance.getResult());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildEngine.AbstractBuildEngineResult#getResult() result} attribute.
+     * @param result The value for result 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResult(ListenableFuture<BuildResult> result) {
+      this.result = Objects.requireNonNull(result, "result");
+      initBits &= ~INIT_BIT_RESULT;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link BuildEngineResult BuildEngineResult}.
+     * @return An immutable instance of BuildEngineResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildEngineResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new BuildEngineResult(result);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_RESULT) != 0) attributes.add("result");
+      return "Cannot build BuildEngineResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
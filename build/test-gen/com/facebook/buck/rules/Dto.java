@@ -0,0 +1,181 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link BuckPyFunctionTest.AbstractDto}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code Dto.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuckPyFunctionTest.AbstractDto"})
+@Immutable
+public final class Dto extends BuckPyFunctionTest.AbstractDto {
+  private final String someField;
+
+  private Dto(String someField) {
+    this.someField = someField;
+  }
+
+  /**
+   * @return The value of the {@code someField} attribute
+   */
+  @Override
+  public String getSomeField() {
+    return someField;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuckPyFunctionTest.AbstractDto#getSomeField() someField} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for someField
+   * @return A modified copy of the {@code this} object
+   */
+  public final Dto withSomeField(String value) {
+    if (this.someField.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "someField");
+    return new Dto(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code Dto} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof Dto
+        && equalTo((Dto) another);
+  }
+
+  private boolean equalTo(Dto another) {
+    return someField.equals(another.someField);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code someField}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + someField.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code Dto} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("Dto")
+        .omitNullValues()
+        .add("someField", someField)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link BuckPyFunctionTest.AbstractDto} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable Dto instance
+   */
+  static Dto copyOf(BuckPyFunctionTest.AbstractDto instance) {
+    if (instance instanceof Dto) {
+      return (Dto) instance;
+    }
+    return Dto.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link Dto Dto}.
+   * @return A new Dto builder
+   */
+  public static Dto.Builder builder() {
+    return new Dto.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link Dto Dto}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SOME_FIELD = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String someField;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code Dto} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(Dto instance) {
+      return from((BuckPyFunctionTest.AbstractDto) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDto} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(BuckPyFunctionTest.AbstractDto instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSomeField(instance.getSomeField());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuckPyFunctionTest.AbstractDto#getSomeField() someField} attribute.
+     * @param someField The value for someField 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSomeField(String someField) {
+      this.someField = Objects.requireNonNull(someField, "someField");
+      initBits &= ~INIT_BIT_SOME_FIELD;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link Dto Dto}.
+     * @return An immutable instance of Dto
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public Dto build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new Dto(someField);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SOME_FIELD) != 0) attributes.add("someField");
+      return "Cannot build Dto, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,336 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link BuckPyFunctionTest.AbstractEither}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code Either.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuckPyFunctionTest.AbstractEither"})
+@Immutable
+public final class Either extends BuckPyFunctionTest.AbstractEither {
+  private final @Nullable String cat;
+  private final String dog;
+  private final String egg;
+  private final String fake;
+
+  private Either(Either.Builder builder) {
+    this.cat = builder.cat;
+    this.dog = builder.dog;
+    this.fake = builder.fake;
+    this.egg = builder.egg != null
+        ? builder.egg
+        : Objects.requireNonNull(super.getEgg(), "egg");
+  }
+
+  private Either(
+      @Nullable String cat,
+      String dog,
+      String egg,
+      String fake) {
+    this.cat = cat;
+    this.dog = dog;
+    this.egg = egg;
+    this.fake = fake;
+  }
+
+  /**
+   * @return The value of the {@code cat} attribute
+   */
+  @Override
+  public Optional<String> getCat() {
+    return Optional.ofNullable(cat);
+  }
+
+  /**
+   * @return The value of the {@code dog} attribute
+   */
+  @Override
+  public String getDog() {
+    return dog;
+  }
+
+  /**
+   * @return The value of the {@code egg} attribute
+   */
+  @Override
+  public String getEgg() {
+    return egg;
+  }
+
+  /**
+   * @return The value of the {@code fake} attribute
+   */
+  @Override
+  public String getFake() {
+    return fake;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link BuckPyFunctionTest.AbstractEither#getCat() cat} attribute.
+   * @param value The value for cat
+   * @return A modified copy of {@code this} object
+   */
+  public final Either withCat(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "cat");
+    if (Objects.equals(this.cat, newValue)) return this;
+    return new Either(newValue, this.dog, this.egg, this.fake);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link BuckPyFunctionTest.AbstractEither#getCat() cat} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cat
+   * @return A modified copy of {@code this} object
+   */
+  public final Either withCat(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.cat, value)) return this;
+    return new Either(value, this.dog, this.egg, this.fake);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuckPyFunctionTest.AbstractEither#getDog() dog} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for dog
+   * @return A modified copy of the {@code this} object
+   */
+  public final Either withDog(String value) {
+    if (this.dog.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "dog");
+    return new Either(this.cat, newValue, this.egg, this.fake);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuckPyFunctionTest.AbstractEither#getEgg() egg} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for egg
+   * @return A modified copy of the {@code this} object
+   */
+  public final Either withEgg(String value) {
+    if (this.egg.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "egg");
+    return new Either(this.cat, this.dog, newValue, this.fake);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuckPyFunctionTest.AbstractEither#getFake() fake} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fake
+   * @return A modified copy of the {@code this} object
+   */
+  public final Either withFake(String value) {
+    if (this.fake.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "fake");
+    return new Either(this.cat, this.dog, this.egg, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code Either} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof Either
+        && equalTo((Either) another);
+  }
+
+  private boolean equalTo(Either another) {
+    return Objects.equals(cat, another.cat)
+        && dog.equals(another.dog)
+        && egg.equals(another.egg)
+        && fake.equals(another.fake);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cat}, {@code dog}, {@code egg}, {@code fake}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(cat);
+    h += (h << 5) + dog.hashCode();
+    h += (h << 5) + egg.hashCode();
+    h += (h << 5) + fake.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code Either} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("Either")
+        .omitNullValues()
+        .add("cat", cat)
+        .add("dog", dog)
+        .add("egg", egg)
+        .add("fake", fake)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link BuckPyFunctionTest.AbstractEither} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable Either instance
+   */
+  static Either copyOf(BuckPyFunctionTest.AbstractEither instance) {
+    if (instance instanceof Either) {
+      return (Either) instance;
+    }
+    return Either.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link Either Either}.
+   * @return A new Either builder
+   */
+  public static Either.Builder builder() {
+    return new Either.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link Either Either}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_DOG = 0x1L;
+    private static final long INIT_BIT_FAKE = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String cat;
+    private @Nullable String dog;
+    private @Nullable String egg;
+    private @Nullable String fake;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code Either} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(Either instance) {
+      return from((BuckPyFunctionTest.AbstractEither) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractEither} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(BuckPyFunctionTest.AbstractEither instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<String> catOptional = instance.getCat();
+      if (catOptional.isPresent()) {
+        setCat(catOptional);
+      }
+      setDog(instance.getDog());
+      setEgg(instance.getEgg());
+      setFake(instance.getFake());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuckPyFunctionTest.AbstractEither#getCat() cat} to cat.
+     * @param cat The value for cat
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCat(String cat) {
+      this.cat = Objects.requireNonNull(cat, "cat");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuckPyFunctionTest.AbstractEither#getCat() cat} to cat.
+     * @param cat The value for cat
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCat(Optional<String> cat) {
+      this.cat = cat.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuckPyFunctionTest.AbstractEither#getDog() dog} attribute.
+     * @param dog The value for dog 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDog(String dog) {
+      this.dog = Objects.requireNonNull(dog, "dog");
+      initBits &= ~INIT_BIT_DOG;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link BuckPyFunctionTest.AbstractEither#getEgg() egg} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link BuckPyFunctionTest.AbstractEither#getEgg() egg}.</em>
+     * @param egg The value for egg 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEgg(String egg) {
+      this.egg = Objects.requireNonNull(egg, "egg");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link BuckPyFunctionTest.AbstractEither#getFake() fake} attribute.
+     * @param fake The value for fake 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFake(String fake) {
+      this.fake = Objects.requireNonNull(fake, "fake");
+      initBits &= ~INIT_BIT_FAKE;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link Either Either}.
+     * @return An immutable instance of Either
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public Either build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new Either(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_DOG) != 0) attributes.add("dog");
+      if ((initBits & INIT_BIT_FAKE) != 0) attributes.add("fake");
+      return "Cannot build Either, some of required attributes are not set " + attributes;
+    }
+  }
+}
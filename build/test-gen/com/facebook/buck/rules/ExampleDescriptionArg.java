@@ -0,0 +1,963 @@
+package com.facebook.buck.rules;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link TargetNodeTest.AbstractExampleDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ExampleDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "TargetNodeTest.AbstractExampleDescriptionArg"})
+@Immutable
+public final class ExampleDescriptionArg
+    implements TargetNodeTest.AbstractExampleDescriptionArg {
+  private final ImmutableSortedSet<SourcePath> sourcePaths;
+  private final @Nullable SourceWithFlags appleSource;
+  private final @Nullable Path source;
+  private final @Nullable String string;
+  private final @Nullable BuildTarget target;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSet<SourcePath> licenses;
+  private final String name;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private ExampleDescriptionArg(
+      ImmutableSortedSet<SourcePath> sourcePaths,
+      @Nullable SourceWithFlags appleSource,
+      @Nullable Path source,
+      @Nullable String string,
+      @Nullable BuildTarget target,
+      ImmutableSortedSet<String> labels,
+      ImmutableSet<SourcePath> licenses,
+      String name,
+      ImmutableSortedSet<BuildTarget> deps) {
+    this.sourcePaths = sourcePaths;
+    this.appleSource = appleSource;
+    this.source = source;
+    this.string = string;
+    this.target = target;
+    this.labels = labels;
+    this.licenses = licenses;
+    this.name = name;
+    this.deps = deps;
+  }
+
+  /**
+   * @return The value of the {@code sourcePaths} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSourcePaths() {
+    return sourcePaths;
+  }
+
+  /**
+   * @return The value of the {@code appleSource} attribute
+   */
+  @Override
+  public Optional<SourceWithFlags> getAppleSource() {
+    return Optional.ofNullable(appleSource);
+  }
+
+  /**
+   * @return The value of the {@code source} attribute
+   */
+  @Override
+  public Optional<Path> getSource() {
+    return Optional.ofNullable(source);
+  }
+
+  /**
+   * @return The value of the {@code string} attribute
+   */
+  @Override
+  public Optional<String> getString() {
+    return Optional.ofNullable(string);
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getTarget() {
+    return Optional.ofNullable(target);
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link TargetNodeTest.AbstractExampleDescriptionArg#getSourcePaths() sourcePaths}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleDescriptionArg withSourcePaths(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new ExampleDescriptionArg(
+        newValue,
+        this.appleSource,
+        this.source,
+        this.string,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link TargetNodeTest.AbstractExampleDescriptionArg#getSourcePaths() sourcePaths}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of sourcePaths elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleDescriptionArg withSourcePaths(Iterable<? extends SourcePath> elements) {
+    if (this.sourcePaths == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new ExampleDescriptionArg(
+        newValue,
+        this.appleSource,
+        this.source,
+        this.string,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link TargetNodeTest.AbstractExampleDescriptionArg#getAppleSource() appleSource} attribute.
+   * @param value The value for appleSource
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleDescriptionArg withAppleSource(SourceWithFlags value) {
+    @Nullable SourceWithFlags newValue = Objects.requireNonNull(value, "appleSource");
+    if (this.appleSource == newValue) return this;
+    return new ExampleDescriptionArg(
+        this.sourcePaths,
+        newValue,
+        this.source,
+        this.string,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link TargetNodeTest.AbstractExampleDescriptionArg#getAppleSource() appleSource} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for appleSource
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleDescriptionArg withAppleSource(Optional<? extends SourceWithFlags> optional) {
+    @Nullable SourceWithFlags value = optional.orElse(null);
+    if (this.appleSource == value) return this;
+    return new ExampleDescriptionArg(
+        this.sourcePaths,
+        value,
+        this.source,
+        this.string,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link TargetNodeTest.AbstractExampleDescriptionArg#getSource() source} attribute.
+   * @param value The value for source
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleDescriptionArg withSource(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "source");
+    if (this.source == newValue) return this;
+    return new ExampleDescriptionArg(
+        this.sourcePaths,
+        this.appleSource,
+        newValue,
+        this.string,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link TargetNodeTest.AbstractExampleDescriptionArg#getSource() source} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for source
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleDescriptionArg withSource(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.source == value) return this;
+    return new ExampleDescriptionArg(
+        this.sourcePaths,
+        this.appleSource,
+        value,
+        this.string,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link TargetNodeTest.AbstractExampleDescriptionArg#getString() string} attribute.
+   * @param value The value for string
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleDescriptionArg withString(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "string");
+    if (Objects.equals(this.string, newValue)) return this;
+    return new ExampleDescriptionArg(
+        this.sourcePaths,
+        this.appleSource,
+        this.source,
+        newValue,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link TargetNodeTest.AbstractExampleDescriptionArg#getString() string} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for string
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleDescriptionArg withString(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.string, value)) return this;
+    return new ExampleDescriptionArg(
+        this.sourcePaths,
+        this.appleSource,
+        this.source,
+        value,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link TargetNodeTest.AbstractExampleDescriptionArg#getTarget() target} attribute.
+   * @param value The value for target
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleDescriptionArg withTarget(BuildTarget value) {
+    @Nullable BuildTarget newValue = Objects.requireNonNull(value, "target");
+    if (this.target == newValue) return this;
+    return new ExampleDescriptionArg(
+        this.sourcePaths,
+        this.appleSource,
+        this.source,
+        this.string,
+        newValue,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link TargetNodeTest.AbstractExampleDescriptionArg#getTarget() target} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for target
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleDescriptionArg withTarget(Optional<? extends BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.target == value) return this;
+    return new ExampleDescriptionArg(
+        this.sourcePaths,
+        this.appleSource,
+        this.source,
+        this.string,
+        value,
+        this.labels,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link TargetNodeTest.AbstractExampleDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new ExampleDescriptionArg(
+        this.sourcePaths,
+        this.appleSource,
+        this.source,
+        this.string,
+        this.target,
+        newValue,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link TargetNodeTest.AbstractExampleDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new ExampleDescriptionArg(
+        this.sourcePaths,
+        this.appleSource,
+        this.source,
+        this.string,
+        this.target,
+        newValue,
+        this.licenses,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link TargetNodeTest.AbstractExampleDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new ExampleDescriptionArg(
+        this.sourcePaths,
+        this.appleSource,
+        this.source,
+        this.string,
+        this.target,
+        this.labels,
+        newValue,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link TargetNodeTest.AbstractExampleDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new ExampleDescriptionArg(
+        this.sourcePaths,
+        this.appleSource,
+        this.source,
+        this.string,
+        this.target,
+        this.labels,
+        newValue,
+        this.name,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link TargetNodeTest.AbstractExampleDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExampleDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new ExampleDescriptionArg(
+        this.sourcePaths,
+        this.appleSource,
+        this.source,
+        this.string,
+        this.target,
+        this.labels,
+        this.licenses,
+        newValue,
+        this.deps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link TargetNodeTest.AbstractExampleDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new ExampleDescriptionArg(
+        this.sourcePaths,
+        this.appleSource,
+        this.source,
+        this.string,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link TargetNodeTest.AbstractExampleDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExampleDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new ExampleDescriptionArg(
+        this.sourcePaths,
+        this.appleSource,
+        this.source,
+        this.string,
+        this.target,
+        this.labels,
+        this.licenses,
+        this.name,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ExampleDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ExampleDescriptionArg
+        && equalTo((ExampleDescriptionArg) another);
+  }
+
+  private boolean equalTo(ExampleDescriptionArg another) {
+    return sourcePaths.equals(another.sourcePaths)
+        && Objects.equals(appleSource, another.appleSource)
+        && Objects.equals(source, another.source)
+        && Objects.equals(string, another.string)
+        && Objects.equals(target, another.target)
+        && labels.equals(another.labels)
+        && licenses.equals(another.licenses)
+        && name.equals(another.name)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sourcePaths}, {@code appleSource}, {@code source}, {@code string}, {@code target}, {@code labels}, {@code licenses}, {@code name}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + sourcePaths.hashCode();
+    h += (h << 5) + Objects.hashCode(appleSource);
+    h += (h << 5) + Objects.hashCode(source);
+    h += (h << 5) + Objects.hashCode(string);
+    h += (h << 5) + Objects.hashCode(target);
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExampleDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExampleDescriptionArg")
+        .omitNullValues()
+        .add("sourcePaths", sourcePaths)
+        .add("appleSource", appleSource)
+        .add("source", source)
+        .add("string", string)
+        .add("target", target)
+        .add("labels", labels)
+        .add("licenses", licenses)
+        .add("name", name)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link TargetNodeTest.AbstractExampleDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ExampleDescriptionArg instance
+   */
+  static ExampleDescriptionArg copyOf(TargetNodeTest.AbstractExampleDescriptionArg instance) {
+    if (instance instanceof ExampleDescriptionArg) {
+      return (ExampleDescriptionArg) instance;
+    }
+    return ExampleDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ExampleDescriptionArg ExampleDescriptionArg}.
+   * @return A new ExampleDescriptionArg builder
+   */
+  public static ExampleDescriptionArg.Builder builder() {
+    return new ExampleDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ExampleDescriptionArg ExampleDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableSortedSet.Builder<SourcePath> sourcePaths = ImmutableSortedSet.naturalOrder();
+    private @Nullable SourceWithFlags appleSource;
+    private @Nullable Path source;
+    private @Nullable String string;
+    private @Nullable BuildTarget target;
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private @Nullable String name;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ExampleDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ExampleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractExampleDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(TargetNodeTest.AbstractExampleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof TargetNodeTest.AbstractExampleDescriptionArg) {
+        TargetNodeTest.AbstractExampleDescriptionArg instance = (TargetNodeTest.AbstractExampleDescriptionArg) object;
+        addAllSourcePaths(instance.getSourcePaths());
+        Optional<Path> sourceOptional = instance.getSource();
+        if (sourceOptional.isPresent()) {
+          setSource(sourceOptional);
+        }
+        Optional<String> stringOptional = instance.getString();
+        if (stringOptional.isPresent()) {
+          setString(stringOptional);
+        }
+        Optional<SourceWithFlags> appleSourceOptional = instance.getAppleSource();
+        if (appleSourceOptional.isPresent()) {
+          setAppleSource(appleSourceOptional);
+        }
+        Optional<BuildTarget> targetOptional = instance.getTarget();
+        if (targetOptional.isPresent()) {
+          setTarget(targetOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Adds one element to {@link TargetNodeTest.AbstractExampleDescriptionArg#getSourcePaths() sourcePaths} sortedSet.
+     * @param element A sourcePaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSourcePaths(SourcePath element) {
+      this.sourcePaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link TargetNodeTest.AbstractExampleDescriptionArg#getSourcePaths() sourcePaths} sortedSet.
+     * @param elements An array of sourcePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSourcePaths(SourcePath... elements) {
+      this.sourcePaths.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link TargetNodeTest.AbstractExampleDescriptionArg#getSourcePaths() sourcePaths} sortedSet.
+     * @param elements An iterable of sourcePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourcePaths(Iterable<? extends SourcePath> elements) {
+      this.sourcePaths = ImmutableSortedSet.naturalOrder();
+      return addAllSourcePaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link TargetNodeTest.AbstractExampleDescriptionArg#getSourcePaths() sourcePaths} sortedSet.
+     * @param elements An iterable of sourcePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSourcePaths(Iterable<? extends SourcePath> elements) {
+      this.sourcePaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetNodeTest.AbstractExampleDescriptionArg#getAppleSource() appleSource} to appleSource.
+     * @param appleSource The value for appleSource
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAppleSource(SourceWithFlags appleSource) {
+      this.appleSource = Objects.requireNonNull(appleSource, "appleSource");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetNodeTest.AbstractExampleDescriptionArg#getAppleSource() appleSource} to appleSource.
+     * @param appleSource The value for appleSource
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAppleSource(Optional<? extends SourceWithFlags> appleSource) {
+      this.appleSource = appleSource.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetNodeTest.AbstractExampleDescriptionArg#getSource() source} to source.
+     * @param source The value for source
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSource(Path source) {
+      this.source = Objects.requireNonNull(source, "source");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetNodeTest.AbstractExampleDescriptionArg#getSource() source} to source.
+     * @param source The value for source
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSource(Optional<? extends Path> source) {
+      this.source = source.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetNodeTest.AbstractExampleDescriptionArg#getString() string} to string.
+     * @param string The value for string
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setString(String string) {
+      this.string = Objects.requireNonNull(string, "string");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetNodeTest.AbstractExampleDescriptionArg#getString() string} to string.
+     * @param string The value for string
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setString(Optional<String> string) {
+      this.string = string.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetNodeTest.AbstractExampleDescriptionArg#getTarget() target} to target.
+     * @param target The value for target
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTarget(BuildTarget target) {
+      this.target = Objects.requireNonNull(target, "target");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetNodeTest.AbstractExampleDescriptionArg#getTarget() target} to target.
+     * @param target The value for target
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTarget(Optional<? extends BuildTarget> target) {
+      this.target = target.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link TargetNodeTest.AbstractExampleDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link TargetNodeTest.AbstractExampleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link TargetNodeTest.AbstractExampleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link TargetNodeTest.AbstractExampleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link TargetNodeTest.AbstractExampleDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link TargetNodeTest.AbstractExampleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link TargetNodeTest.AbstractExampleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link TargetNodeTest.AbstractExampleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link TargetNodeTest.AbstractExampleDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link TargetNodeTest.AbstractExampleDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link TargetNodeTest.AbstractExampleDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link TargetNodeTest.AbstractExampleDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link TargetNodeTest.AbstractExampleDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ExampleDescriptionArg ExampleDescriptionArg}.
+     * @return An immutable instance of ExampleDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ExampleDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ExampleDescriptionArg(
+          sourcePaths.build(),
+          appleSource,
+          source,
+          string,
+          target,
+          labels.build(),
+          licenses.build(),
+          name,
+          deps.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build ExampleDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
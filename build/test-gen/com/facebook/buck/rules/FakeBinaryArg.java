@@ -0,0 +1,720 @@
+package com.facebook.buck.rules;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code FakeBinaryArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg"})
+@Immutable
+public final class FakeBinaryArg
+    implements FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg {
+  private final ImmutableList<String> command;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<SourcePath> inputs;
+  private final ImmutableSortedMap<String, String> environment;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSet<SourcePath> licenses;
+  private final String name;
+
+  private FakeBinaryArg(
+      ImmutableList<String> command,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<SourcePath> inputs,
+      ImmutableSortedMap<String, String> environment,
+      ImmutableSortedSet<String> labels,
+      ImmutableSet<SourcePath> licenses,
+      String name) {
+    this.command = command;
+    this.deps = deps;
+    this.inputs = inputs;
+    this.environment = environment;
+    this.labels = labels;
+    this.licenses = licenses;
+    this.name = name;
+  }
+
+  /**
+   * @return The value of the {@code command} attribute
+   */
+  @Override
+  public ImmutableList<String> getCommand() {
+    return command;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code inputs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getInputs() {
+    return inputs;
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableSortedMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getCommand() command}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeBinaryArg withCommand(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new FakeBinaryArg(newValue, this.deps, this.inputs, this.environment, this.labels, this.licenses, this.name);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getCommand() command}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of command elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeBinaryArg withCommand(Iterable<String> elements) {
+    if (this.command == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new FakeBinaryArg(newValue, this.deps, this.inputs, this.environment, this.labels, this.licenses, this.name);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeBinaryArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new FakeBinaryArg(this.command, newValue, this.inputs, this.environment, this.labels, this.licenses, this.name);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeBinaryArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new FakeBinaryArg(this.command, newValue, this.inputs, this.environment, this.labels, this.licenses, this.name);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getInputs() inputs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeBinaryArg withInputs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new FakeBinaryArg(this.command, this.deps, newValue, this.environment, this.labels, this.licenses, this.name);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getInputs() inputs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of inputs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeBinaryArg withInputs(Iterable<? extends SourcePath> elements) {
+    if (this.inputs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new FakeBinaryArg(this.command, this.deps, newValue, this.environment, this.labels, this.licenses, this.name);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getEnvironment() environment} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the environment map
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeBinaryArg withEnvironment(Map<String, ? extends String> entries) {
+    if (this.environment == entries) return this;
+    ImmutableSortedMap<String, String> newValue = ImmutableSortedMap.copyOf(entries,
+        Ordering.<String>natural()
+    );
+    return new FakeBinaryArg(this.command, this.deps, this.inputs, newValue, this.labels, this.licenses, this.name);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeBinaryArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new FakeBinaryArg(this.command, this.deps, this.inputs, this.environment, newValue, this.licenses, this.name);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeBinaryArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new FakeBinaryArg(this.command, this.deps, this.inputs, this.environment, newValue, this.licenses, this.name);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeBinaryArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new FakeBinaryArg(this.command, this.deps, this.inputs, this.environment, this.labels, newValue, this.name);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeBinaryArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new FakeBinaryArg(this.command, this.deps, this.inputs, this.environment, this.labels, newValue, this.name);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeBinaryArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new FakeBinaryArg(this.command, this.deps, this.inputs, this.environment, this.labels, this.licenses, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code FakeBinaryArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof FakeBinaryArg
+        && equalTo((FakeBinaryArg) another);
+  }
+
+  private boolean equalTo(FakeBinaryArg another) {
+    return command.equals(another.command)
+        && deps.equals(another.deps)
+        && inputs.equals(another.inputs)
+        && environment.equals(another.environment)
+        && labels.equals(another.labels)
+        && licenses.equals(another.licenses)
+        && name.equals(another.name);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code command}, {@code deps}, {@code inputs}, {@code environment}, {@code labels}, {@code licenses}, {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + command.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + inputs.hashCode();
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FakeBinaryArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FakeBinaryArg")
+        .omitNullValues()
+        .add("command", command)
+        .add("deps", deps)
+        .add("inputs", inputs)
+        .add("environment", environment)
+        .add("labels", labels)
+        .add("licenses", licenses)
+        .add("name", name)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable FakeBinaryArg instance
+   */
+  static FakeBinaryArg copyOf(FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg instance) {
+    if (instance instanceof FakeBinaryArg) {
+      return (FakeBinaryArg) instance;
+    }
+    return FakeBinaryArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link FakeBinaryArg FakeBinaryArg}.
+   * @return A new FakeBinaryArg builder
+   */
+  public static FakeBinaryArg.Builder builder() {
+    return new FakeBinaryArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link FakeBinaryArg FakeBinaryArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableList.Builder<String> command = ImmutableList.builder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> inputs = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedMap.Builder<String, String> environment = ImmutableSortedMap.naturalOrder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private @Nullable String name;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code FakeBinaryArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(FakeBinaryArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractFakeBinaryArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg) {
+        FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg instance = (FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg) object;
+        putAllEnvironment(instance.getEnvironment());
+        if ((bits & 0x1L) == 0) {
+          addAllDeps(instance.getDeps());
+          bits |= 0x1L;
+        }
+        addAllInputs(instance.getInputs());
+        addAllCommand(instance.getCommand());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        if ((bits & 0x1L) == 0) {
+          addAllDeps(instance.getDeps());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Adds one element to {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getCommand() command} list.
+     * @param element A command element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCommand(String element) {
+      this.command.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getCommand() command} list.
+     * @param elements An array of command elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCommand(String... elements) {
+      this.command.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getCommand() command} list.
+     * @param elements An iterable of command elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCommand(Iterable<String> elements) {
+      this.command = ImmutableList.builder();
+      return addAllCommand(elements);
+    }
+
+    /**
+     * Adds elements to {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getCommand() command} list.
+     * @param elements An iterable of command elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCommand(Iterable<String> elements) {
+      this.command.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getInputs() inputs} sortedSet.
+     * @param element A inputs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addInputs(SourcePath element) {
+      this.inputs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getInputs() inputs} sortedSet.
+     * @param elements An array of inputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addInputs(SourcePath... elements) {
+      this.inputs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getInputs() inputs} sortedSet.
+     * @param elements An iterable of inputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInputs(Iterable<? extends SourcePath> elements) {
+      this.inputs = ImmutableSortedSet.naturalOrder();
+      return addAllInputs(elements);
+    }
+
+    /**
+     * Adds elements to {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getInputs() inputs} sortedSet.
+     * @param elements An iterable of inputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllInputs(Iterable<? extends SourcePath> elements) {
+      this.inputs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getEnvironment() environment} map.
+     * @param key The key in the environment map
+     * @param value The associated value in the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnvironment(String key, String value) {
+      this.environment.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getEnvironment() environment} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnvironment(Map.Entry<String, ? extends String> entry) {
+      this.environment.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getEnvironment() environment} map. Nulls are not permitted
+     * @param environment The entries that will be added to the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnvironment(Map<String, ? extends String> environment) {
+      this.environment = ImmutableSortedMap.naturalOrder();
+      return putAllEnvironment(environment);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getEnvironment() environment} map. Nulls are not permitted
+     * @param environment The entries that will be added to the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllEnvironment(Map<String, ? extends String> environment) {
+      this.environment.putAll(environment);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link FakeBinaryBuildRuleBuilder.AbstractFakeBinaryArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link FakeBinaryArg FakeBinaryArg}.
+     * @return An immutable instance of FakeBinaryArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public FakeBinaryArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new FakeBinaryArg(
+          command.build(),
+          deps.build(),
+          inputs.build(),
+          environment.build(),
+          labels.build(),
+          licenses.build(),
+          name);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build FakeBinaryArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
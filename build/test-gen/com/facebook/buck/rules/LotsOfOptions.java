@@ -0,0 +1,590 @@
+package com.facebook.buck.rules;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link BuckPyFunctionTest.AbstractLotsOfOptions}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code LotsOfOptions.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuckPyFunctionTest.AbstractLotsOfOptions"})
+@Immutable
+public final class LotsOfOptions extends BuckPyFunctionTest.AbstractLotsOfOptions {
+  private final @Nullable String thing;
+  private final @Nullable List<BuildTarget> targets;
+  private final ImmutableList<String> strings;
+  private final @Nullable Integer version;
+  private final @Nullable Boolean doStuff;
+  private final boolean doSomething;
+
+  private LotsOfOptions(LotsOfOptions.Builder builder) {
+    this.thing = builder.thing;
+    this.targets = builder.targets;
+    this.version = builder.version;
+    this.doStuff = builder.doStuff;
+    if (builder.stringsIsSet()) {
+      initShim.setStrings(builder.strings.build());
+    }
+    if (builder.doSomethingIsSet()) {
+      initShim.setDoSomething(builder.doSomething);
+    }
+    this.strings = initShim.getStrings();
+    this.doSomething = initShim.isDoSomething();
+    this.initShim = null;
+  }
+
+  private LotsOfOptions(
+      @Nullable String thing,
+      @Nullable List<BuildTarget> targets,
+      ImmutableList<String> strings,
+      @Nullable Integer version,
+      @Nullable Boolean doStuff,
+      boolean doSomething) {
+    this.thing = thing;
+    this.targets = targets;
+    this.strings = strings;
+    this.version = version;
+    this.doStuff = doStuff;
+    this.doSomething = doSomething;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private ImmutableList<String> strings;
+    private int stringsBuildStage;
+
+    ImmutableList<String> getStrings() {
+      if (stringsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (stringsBuildStage == STAGE_UNINITIALIZED) {
+        stringsBuildStage = STAGE_INITIALIZING;
+        this.strings = ImmutableList.copyOf(LotsOfOptions.super.getStrings());
+        stringsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.strings;
+    }
+
+    void setStrings(ImmutableList<String> strings) {
+      this.strings = strings;
+      stringsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean doSomething;
+    private int doSomethingBuildStage;
+
+    boolean isDoSomething() {
+      if (doSomethingBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (doSomethingBuildStage == STAGE_UNINITIALIZED) {
+        doSomethingBuildStage = STAGE_INITIALIZING;
+        this.doSomething = LotsOfOptions.super.isDoSomething();
+        doSomethingBuildStage = STAGE_INITIALIZED;
+      }
+      return this.doSomething;
+    }
+
+    void setDoSomething(boolean doSomething) {
+      this.doSomething = doSomething;
+      doSomethingBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (stringsBuildStage == STAGE_INITIALIZING) attributes.add("strings");
+      if (doSomethingBuildStage == STAGE_INITIALIZING) attributes.add("doSomething");
+      return "Cannot build LotsOfOptions, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code thing} attribute
+   */
+  @Override
+  public Optional<String> getThing() {
+    return Optional.ofNullable(thing);
+  }
+
+  /**
+   * @return The value of the {@code targets} attribute
+   */
+  @Override
+  public Optional<List<BuildTarget>> getTargets() {
+    return Optional.ofNullable(targets);
+  }
+
+  /**
+   * @return The value of the {@code strings} attribute
+   */
+  @Override
+  public ImmutableList<String> getStrings() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getStrings()
+        : this.strings;
+  }
+
+  /**
+   * @return The value of the {@code version} attribute
+   */
+  @Override
+  public Optional<Integer> getVersion() {
+    return Optional.ofNullable(version);
+  }
+
+  /**
+   * @return The value of the {@code doStuff} attribute
+   */
+  @Override
+  public Optional<Boolean> isDoStuff() {
+    return Optional.ofNullable(doStuff);
+  }
+
+  /**
+   * @return The value of the {@code doSomething} attribute
+   */
+  @Override
+  public boolean isDoSomething() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isDoSomething()
+        : this.doSomething;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link BuckPyFunctionTest.AbstractLotsOfOptions#getThing() thing} attribute.
+   * @param value The value for thing
+   * @return A modified copy of {@code this} object
+   */
+  public final LotsOfOptions withThing(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "thing");
+    if (Objects.equals(this.thing, newValue)) return this;
+    return new LotsOfOptions(newValue, this.targets, this.strings, this.version, this.doStuff, this.doSomething);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link BuckPyFunctionTest.AbstractLotsOfOptions#getThing() thing} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for thing
+   * @return A modified copy of {@code this} object
+   */
+  public final LotsOfOptions withThing(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.thing, value)) return this;
+    return new LotsOfOptions(value, this.targets, this.strings, this.version, this.doStuff, this.doSomething);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link BuckPyFunctionTest.AbstractLotsOfOptions#getTargets() targets} attribute.
+   * @param value The value for targets
+   * @return A modified copy of {@code this} object
+   */
+  public final LotsOfOptions withTargets(List<BuildTarget> value) {
+    @Nullable List<BuildTarget> newValue = Objects.requireNonNull(value, "targets");
+    if (this.targets == newValue) return this;
+    return new LotsOfOptions(this.thing, newValue, this.strings, this.version, this.doStuff, this.doSomething);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link BuckPyFunctionTest.AbstractLotsOfOptions#getTargets() targets} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for targets
+   * @return A modified copy of {@code this} object
+   */
+  public final LotsOfOptions withTargets(Optional<? extends List<BuildTarget>> optional) {
+    @Nullable List<BuildTarget> value = optional.orElse(null);
+    if (this.targets == value) return this;
+    return new LotsOfOptions(this.thing, value, this.strings, this.version, this.doStuff, this.doSomething);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link BuckPyFunctionTest.AbstractLotsOfOptions#getStrings() strings}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final LotsOfOptions withStrings(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new LotsOfOptions(this.thing, this.targets, newValue, this.version, this.doStuff, this.doSomething);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link BuckPyFunctionTest.AbstractLotsOfOptions#getStrings() strings}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of strings elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final LotsOfOptions withStrings(Iterable<String> elements) {
+    if (this.strings == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new LotsOfOptions(this.thing, this.targets, newValue, this.version, this.doStuff, this.doSomething);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link BuckPyFunctionTest.AbstractLotsOfOptions#getVersion() version} attribute.
+   * @param value The value for version
+   * @return A modified copy of {@code this} object
+   */
+  public final LotsOfOptions withVersion(int value) {
+    @Nullable Integer newValue = value;
+    if (Objects.equals(this.version, newValue)) return this;
+    return new LotsOfOptions(this.thing, this.targets, this.strings, newValue, this.doStuff, this.doSomething);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link BuckPyFunctionTest.AbstractLotsOfOptions#getVersion() version} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for version
+   * @return A modified copy of {@code this} object
+   */
+  public final LotsOfOptions withVersion(Optional<Integer> optional) {
+    @Nullable Integer value = optional.orElse(null);
+    if (Objects.equals(this.version, value)) return this;
+    return new LotsOfOptions(this.thing, this.targets, this.strings, value, this.doStuff, this.doSomething);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link BuckPyFunctionTest.AbstractLotsOfOptions#isDoStuff() doStuff} attribute.
+   * @param value The value for doStuff
+   * @return A modified copy of {@code this} object
+   */
+  public final LotsOfOptions withDoStuff(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.doStuff, newValue)) return this;
+    return new LotsOfOptions(this.thing, this.targets, this.strings, this.version, newValue, this.doSomething);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link BuckPyFunctionTest.AbstractLotsOfOptions#isDoStuff() doStuff} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for doStuff
+   * @return A modified copy of {@code this} object
+   */
+  public final LotsOfOptions withDoStuff(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.doStuff, value)) return this;
+    return new LotsOfOptions(this.thing, this.targets, this.strings, this.version, value, this.doSomething);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuckPyFunctionTest.AbstractLotsOfOptions#isDoSomething() doSomething} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for doSomething
+   * @return A modified copy of the {@code this} object
+   */
+  public final LotsOfOptions withDoSomething(boolean value) {
+    if (this.doSomething == value) return this;
+    return new LotsOfOptions(this.thing, this.targets, this.strings, this.version, this.doStuff, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code LotsOfOptions} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof LotsOfOptions
+        && equalTo((LotsOfOptions) another);
+  }
+
+  private boolean equalTo(LotsOfOptions another) {
+    return Objects.equals(thing, another.thing)
+        && Objects.equals(targets, another.targets)
+        && strings.equals(another.strings)
+        && Objects.equals(version, another.version)
+        && Objects.equals(doStuff, another.doStuff)
+        && doSomething == another.doSomething;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code thing}, {@code targets}, {@code strings}, {@code version}, {@code doStuff}, {@code doSomething}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(thing);
+    h += (h << 5) + Objects.hashCode(targets);
+    h += (h << 5) + strings.hashCode();
+    h += (h << 5) + Objects.hashCode(version);
+    h += (h << 5) + Objects.hashCode(doStuff);
+    h += (h << 5) + Booleans.hashCode(doSomething);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LotsOfOptions} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LotsOfOptions")
+        .omitNullValues()
+        .add("thing", thing)
+        .add("targets", targets)
+        .add("strings", strings)
+        .add("version", version)
+        .add("doStuff", doStuff)
+        .add("doSomething", doSomething)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link BuckPyFunctionTest.AbstractLotsOfOptions} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable LotsOfOptions instance
+   */
+  static LotsOfOptions copyOf(BuckPyFunctionTest.AbstractLotsOfOptions instance) {
+    if (instance instanceof LotsOfOptions) {
+      return (LotsOfOptions) instance;
+    }
+    return LotsOfOptions.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link LotsOfOptions LotsOfOptions}.
+   * @return A new LotsOfOptions builder
+   */
+  public static LotsOfOptions.Builder builder() {
+    return new LotsOfOptions.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link LotsOfOptions LotsOfOptions}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long OPT_BIT_STRINGS = 0x1L;
+    private static final long OPT_BIT_DO_SOMETHING = 0x2L;
+    private long optBits;
+
+    private @Nullable String thing;
+    private @Nullable List<BuildTarget> targets;
+    private ImmutableList.Builder<String> strings = ImmutableList.builder();
+    private @Nullable Integer version;
+    private @Nullable Boolean doStuff;
+    private boolean doSomething;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code LotsOfOptions} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(LotsOfOptions instance) {
+      return from((BuckPyFunctionTest.AbstractLotsOfOptions) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractLotsOfOptions} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(BuckPyFunctionTest.AbstractLotsOfOptions instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<String> thingOptional = instance.getThing();
+      if (thingOptional.isPresent()) {
+        setThing(thingOptional);
+      }
+      Optional<List<BuildTarget>> targetsOptional = instance.getTargets();
+      if (targetsOptional.isPresent()) {
+        setTargets(targetsOptional);
+      }
+      addAllStrings(instance.getStrings());
+      Optional<Integer> versionOptional = instance.getVersion();
+      if (versionOptional.isPresent()) {
+        setVersion(versionOptional);
+      }
+      Optional<Boolean> doStuffOptional = instance.isDoStuff();
+      if (doStuffOptional.isPresent()) {
+        setDoStuff(doStuffOptional);
+      }
+      setDoSomething(instance.isDoSomething());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuckPyFunctionTest.AbstractLotsOfOptions#getThing() thing} to thing.
+     * @param thing The value for thing
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setThing(String thing) {
+      this.thing = Objects.requireNonNull(thing, "thing");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuckPyFunctionTest.AbstractLotsOfOptions#getThing() thing} to thing.
+     * @param thing The value for thing
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setThing(Optional<String> thing) {
+      this.thing = thing.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuckPyFunctionTest.AbstractLotsOfOptions#getTargets() targets} to targets.
+     * @param targets The value for targets
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTargets(List<BuildTarget> targets) {
+      this.targets = Objects.requireNonNull(targets, "targets");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuckPyFunctionTest.AbstractLotsOfOptions#getTargets() targets} to targets.
+     * @param targets The value for targets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTargets(Optional<? extends List<BuildTarget>> targets) {
+      this.targets = targets.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link BuckPyFunctionTest.AbstractLotsOfOptions#getStrings() strings} list.
+     * @param element A strings element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addStrings(String element) {
+      this.strings.add(element);
+      optBits |= OPT_BIT_STRINGS;
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link BuckPyFunctionTest.AbstractLotsOfOptions#getStrings() strings} list.
+     * @param elements An array of strings elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addStrings(String... elements) {
+      this.strings.add(elements);
+      optBits |= OPT_BIT_STRINGS;
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link BuckPyFunctionTest.AbstractLotsOfOptions#getStrings() strings} list.
+     * @param elements An iterable of strings elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStrings(Iterable<String> elements) {
+      this.strings = ImmutableList.builder();
+      return addAllStrings(elements);
+    }
+
+    /**
+     * Adds elements to {@link BuckPyFunctionTest.AbstractLotsOfOptions#getStrings() strings} list.
+     * @param elements An iterable of strings elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllStrings(Iterable<String> elements) {
+      this.strings.addAll(elements);
+      optBits |= OPT_BIT_STRINGS;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuckPyFunctionTest.AbstractLotsOfOptions#getVersion() version} to version.
+     * @param version The value for version
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersion(int version) {
+      this.version = version;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuckPyFunctionTest.AbstractLotsOfOptions#getVersion() version} to version.
+     * @param version The value for version
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersion(Optional<Integer> version) {
+      this.version = version.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuckPyFunctionTest.AbstractLotsOfOptions#isDoStuff() doStuff} to doStuff.
+     * @param doStuff The value for doStuff
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDoStuff(boolean doStuff) {
+      this.doStuff = doStuff;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuckPyFunctionTest.AbstractLotsOfOptions#isDoStuff() doStuff} to doStuff.
+     * @param doStuff The value for doStuff
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDoStuff(Optional<Boolean> doStuff) {
+      this.doStuff = doStuff.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuckPyFunctionTest.AbstractLotsOfOptions#isDoSomething() doSomething} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link BuckPyFunctionTest.AbstractLotsOfOptions#isDoSomething() doSomething}.</em>
+     * @param doSomething The value for doSomething 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDoSomething(boolean doSomething) {
+      this.doSomething = doSomething;
+      optBits |= OPT_BIT_DO_SOMETHING;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link LotsOfOptions LotsOfOptions}.
+     * @return An immutable instance of LotsOfOptions
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public LotsOfOptions build() {
+      return new LotsOfOptions(this);
+    }
+
+    private boolean stringsIsSet() {
+      return (optBits & OPT_BIT_STRINGS) != 0;
+    }
+
+    private boolean doSomethingIsSet() {
+      return (optBits & OPT_BIT_DO_SOMETHING) != 0;
+    }
+  }
+}
@@ -0,0 +1,181 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link BuckPyFunctionTest.AbstractNamed}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code Named.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuckPyFunctionTest.AbstractNamed"})
+@Immutable
+public final class Named extends BuckPyFunctionTest.AbstractNamed {
+  private final String name;
+
+  private Named(String name) {
+    this.name = name;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuckPyFunctionTest.AbstractNamed#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final Named withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new Named(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code Named} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof Named
+        && equalTo((Named) another);
+  }
+
+  private boolean equalTo(Named another) {
+    return name.equals(another.name);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code Named} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("Named")
+        .omitNullValues()
+        .add("name", name)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link BuckPyFunctionTest.AbstractNamed} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable Named instance
+   */
+  static Named copyOf(BuckPyFunctionTest.AbstractNamed instance) {
+    if (instance instanceof Named) {
+      return (Named) instance;
+    }
+    return Named.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link Named Named}.
+   * @return A new Named builder
+   */
+  public static Named.Builder builder() {
+    return new Named.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link Named Named}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String name;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code Named} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(Named instance) {
+      return from((BuckPyFunctionTest.AbstractNamed) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractNamed} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(BuckPyFunctionTest.AbstractNamed instance) {
+      Objects.requireNonNull(instance, "instance");
+      setName(instance.getName());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuckPyFunctionTest.AbstractNamed#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link Named Named}.
+     * @return An immutable instance of Named
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public Named build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new Named(name);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build Named, some of required attributes are not set " + attributes;
+    }
+  }
+}
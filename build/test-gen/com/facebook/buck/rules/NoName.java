@@ -0,0 +1,181 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link BuckPyFunctionTest.AbstractNoName}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code NoName.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuckPyFunctionTest.AbstractNoName"})
+@Immutable
+public final class NoName extends BuckPyFunctionTest.AbstractNoName {
+  private final String random;
+
+  private NoName(String random) {
+    this.random = random;
+  }
+
+  /**
+   * @return The value of the {@code random} attribute
+   */
+  @Override
+  public String getRandom() {
+    return random;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuckPyFunctionTest.AbstractNoName#getRandom() random} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for random
+   * @return A modified copy of the {@code this} object
+   */
+  public final NoName withRandom(String value) {
+    if (this.random.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "random");
+    return new NoName(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NoName} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NoName
+        && equalTo((NoName) another);
+  }
+
+  private boolean equalTo(NoName another) {
+    return random.equals(another.random);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code random}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + random.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NoName} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NoName")
+        .omitNullValues()
+        .add("random", random)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link BuckPyFunctionTest.AbstractNoName} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable NoName instance
+   */
+  static NoName copyOf(BuckPyFunctionTest.AbstractNoName instance) {
+    if (instance instanceof NoName) {
+      return (NoName) instance;
+    }
+    return NoName.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link NoName NoName}.
+   * @return A new NoName builder
+   */
+  public static NoName.Builder builder() {
+    return new NoName.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link NoName NoName}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_RANDOM = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String random;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NoName} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(NoName instance) {
+      return from((BuckPyFunctionTest.AbstractNoName) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractNoName} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(BuckPyFunctionTest.AbstractNoName instance) {
+      Objects.requireNonNull(instance, "instance");
+      setRandom(instance.getRandom());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuckPyFunctionTest.AbstractNoName#getRandom() random} attribute.
+     * @param random The value for random 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRandom(String random) {
+      this.random = Objects.requireNonNull(random, "random");
+      initBits &= ~INIT_BIT_RANDOM;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link NoName NoName}.
+     * @return An immutable instance of NoName
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NoName build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new NoName(random);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_RANDOM) != 0) attributes.add("random");
+      return "Cannot build NoName, some of required attributes are not set " + attributes;
+    }
+  }
+}
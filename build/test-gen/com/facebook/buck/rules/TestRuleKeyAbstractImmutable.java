@@ -0,0 +1,142 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link RuleKeyTest.AbstractTestRuleKeyAbstractImmutable}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code TestRuleKeyAbstractImmutable.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "RuleKeyTest.AbstractTestRuleKeyAbstractImmutable"})
+@Immutable
+public final class TestRuleKeyAbstractImmutable
+    extends RuleKeyTest.AbstractTestRuleKeyAbstractImmutable {
+  private final String ruleKeyValue;
+  private final String nonRuleKeyValue;
+
+  private TestRuleKeyAbstractImmutable(String ruleKeyValue, String nonRuleKeyValue) {
+    this.ruleKeyValue = Objects.requireNonNull(ruleKeyValue, "ruleKeyValue");
+    this.nonRuleKeyValue = Objects.requireNonNull(nonRuleKeyValue, "nonRuleKeyValue");
+  }
+
+  private TestRuleKeyAbstractImmutable(
+      TestRuleKeyAbstractImmutable original,
+      String ruleKeyValue,
+      String nonRuleKeyValue) {
+    this.ruleKeyValue = ruleKeyValue;
+    this.nonRuleKeyValue = nonRuleKeyValue;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyValue} attribute
+   */
+  @Override
+  public String getRuleKeyValue() {
+    return ruleKeyValue;
+  }
+
+  /**
+   * @return The value of the {@code nonRuleKeyValue} attribute
+   */
+  @Override
+  public String getNonRuleKeyValue() {
+    return nonRuleKeyValue;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RuleKeyTest.AbstractTestRuleKeyAbstractImmutable#getRuleKeyValue() ruleKeyValue} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleKeyValue
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestRuleKeyAbstractImmutable withRuleKeyValue(String value) {
+    if (this.ruleKeyValue.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "ruleKeyValue");
+    return new TestRuleKeyAbstractImmutable(this, newValue, this.nonRuleKeyValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RuleKeyTest.AbstractTestRuleKeyAbstractImmutable#getNonRuleKeyValue() nonRuleKeyValue} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for nonRuleKeyValue
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestRuleKeyAbstractImmutable withNonRuleKeyValue(String value) {
+    if (this.nonRuleKeyValue.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "nonRuleKeyValue");
+    return new TestRuleKeyAbstractImmutable(this, this.ruleKeyValue, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TestRuleKeyAbstractImmutable} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TestRuleKeyAbstractImmutable
+        && equalTo((TestRuleKeyAbstractImmutable) another);
+  }
+
+  private boolean equalTo(TestRuleKeyAbstractImmutable another) {
+    return ruleKeyValue.equals(another.ruleKeyValue)
+        && nonRuleKeyValue.equals(another.nonRuleKeyValue);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleKeyValue}, {@code nonRuleKeyValue}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + ruleKeyValue.hashCode();
+    h += (h << 5) + nonRuleKeyValue.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TestRuleKeyAbstractImmutable} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestRuleKeyAbstractImmutable")
+        .omitNullValues()
+        .add("ruleKeyValue", ruleKeyValue)
+        .add("nonRuleKeyValue", nonRuleKeyValue)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TestRuleKeyAbstractImmutable} instance.
+   * @param ruleKeyValue The value for the {@code ruleKeyValue} attribute
+   * @param nonRuleKeyValue The value for the {@code nonRuleKeyValue} attribute
+   * @return An immutable TestRuleKeyAbstractImmutable instance
+   */
+  public static TestRuleKeyAbstractImmutable of(String ruleKeyValue, String nonRuleKeyValue) {
+    return new TestRuleKeyAbstractImmutable(ruleKeyValue, nonRuleKeyValue);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link RuleKeyTest.AbstractTestRuleKeyAbstractImmutable} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable TestRuleKeyAbstractImmutable instance
+   */
+  static TestRuleKeyAbstractImmutable copyOf(RuleKeyTest.AbstractTestRuleKeyAbstractImmutable instance) {
+    if (instance instanceof TestRuleKeyAbstractImmutable) {
+      return (TestRuleKeyAbstractImmutable) instance;
+    }
+    return TestRuleKeyAbstractImmutable.of(instance.getRuleKeyValue(), instance.getNonRuleKeyValue());
+  }
+}
@@ -0,0 +1,174 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link RuleKeyTest.AbstractTestRuleKeyImmutableWithDefaults}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code TestRuleKeyImmutableWithDefaults.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "RuleKeyTest.AbstractTestRuleKeyImmutableWithDefaults"})
+@Immutable
+public final class TestRuleKeyImmutableWithDefaults
+    extends RuleKeyTest.AbstractTestRuleKeyImmutableWithDefaults {
+  private final String ruleKeyValue;
+
+  private TestRuleKeyImmutableWithDefaults(TestRuleKeyImmutableWithDefaults.Builder builder) {
+    this.ruleKeyValue = builder.ruleKeyValue != null
+        ? builder.ruleKeyValue
+        : Objects.requireNonNull(super.getRuleKeyValue(), "ruleKeyValue");
+  }
+
+  private TestRuleKeyImmutableWithDefaults(String ruleKeyValue) {
+    this.ruleKeyValue = ruleKeyValue;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyValue} attribute
+   */
+  @Override
+  public String getRuleKeyValue() {
+    return ruleKeyValue;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RuleKeyTest.AbstractTestRuleKeyImmutableWithDefaults#getRuleKeyValue() ruleKeyValue} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleKeyValue
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestRuleKeyImmutableWithDefaults withRuleKeyValue(String value) {
+    if (this.ruleKeyValue.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "ruleKeyValue");
+    return new TestRuleKeyImmutableWithDefaults(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TestRuleKeyImmutableWithDefaults} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TestRuleKeyImmutableWithDefaults
+        && equalTo((TestRuleKeyImmutableWithDefaults) another);
+  }
+
+  private boolean equalTo(TestRuleKeyImmutableWithDefaults another) {
+    return ruleKeyValue.equals(another.ruleKeyValue);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleKeyValue}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + ruleKeyValue.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TestRuleKeyImmutableWithDefaults} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestRuleKeyImmutableWithDefaults")
+        .omitNullValues()
+        .add("ruleKeyValue", ruleKeyValue)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link RuleKeyTest.AbstractTestRuleKeyImmutableWithDefaults} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable TestRuleKeyImmutableWithDefaults instance
+   */
+  static TestRuleKeyImmutableWithDefaults copyOf(RuleKeyTest.AbstractTestRuleKeyImmutableWithDefaults instance) {
+    if (instance instanceof TestRuleKeyImmutableWithDefaults) {
+      return (TestRuleKeyImmutableWithDefaults) instance;
+    }
+    return TestRuleKeyImmutableWithDefaults.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link TestRuleKeyImmutableWithDefaults TestRuleKeyImmutableWithDefaults}.
+   * @return A new TestRuleKeyImmutableWithDefaults builder
+   */
+  public static TestRuleKeyImmutableWithDefaults.Builder builder() {
+    return new TestRuleKeyImmutableWithDefaults.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link TestRuleKeyImmutableWithDefaults TestRuleKeyImmutableWithDefaults}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable String ruleKeyValue;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code TestRuleKeyImmutableWithDefaults} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(TestRuleKeyImmutableWithDefaults instance) {
+      return from((RuleKeyTest.AbstractTestRuleKeyImmutableWithDefaults) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractTestRuleKeyImmutableWithDefaults} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(RuleKeyTest.AbstractTestRuleKeyImmutableWithDefaults instance) {
+      Objects.requireNonNull(instance, "instance");
+      setRuleKeyValue(instance.getRuleKeyValue());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RuleKeyTest.AbstractTestRuleKeyImmutableWithDefaults#getRuleKeyValue() ruleKeyValue} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link RuleKeyTest.AbstractTestRuleKeyImmutableWithDefaults#getRuleKeyValue() ruleKeyValue}.</em>
+     * @param ruleKeyValue The value for ruleKeyValue 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRuleKeyValue(String ruleKeyValue) {
+      this.ruleKeyValue = Objects.requireNonNull(ruleKeyValue, "ruleKeyValue");
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link TestRuleKeyImmutableWithDefaults TestRuleKeyImmutableWithDefaults}.
+     * @return An immutable instance of TestRuleKeyImmutableWithDefaults
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public TestRuleKeyImmutableWithDefaults build() {
+      return new TestRuleKeyImmutableWithDefaults(this);
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link RuleKeyTest.AbstractTestRuleKeyInterfaceImmutable}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code TestRuleKeyInterfaceImmutable.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "RuleKeyTest.AbstractTestRuleKeyInterfaceImmutable"})
+@Immutable
+public final class TestRuleKeyInterfaceImmutable
+    implements RuleKeyTest.AbstractTestRuleKeyInterfaceImmutable {
+  private final String ruleKeyValue;
+  private final String nonRuleKeyValue;
+
+  private TestRuleKeyInterfaceImmutable(String ruleKeyValue, String nonRuleKeyValue) {
+    this.ruleKeyValue = Objects.requireNonNull(ruleKeyValue, "ruleKeyValue");
+    this.nonRuleKeyValue = Objects.requireNonNull(nonRuleKeyValue, "nonRuleKeyValue");
+  }
+
+  private TestRuleKeyInterfaceImmutable(
+      TestRuleKeyInterfaceImmutable original,
+      String ruleKeyValue,
+      String nonRuleKeyValue) {
+    this.ruleKeyValue = ruleKeyValue;
+    this.nonRuleKeyValue = nonRuleKeyValue;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyValue} attribute
+   */
+  @Override
+  public String getRuleKeyValue() {
+    return ruleKeyValue;
+  }
+
+  /**
+   * @return The value of the {@code nonRuleKeyValue} attribute
+   */
+  @Override
+  public String getNonRuleKeyValue() {
+    return nonRuleKeyValue;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RuleKeyTest.AbstractTestRuleKeyInterfaceImmutable#getRuleKeyValue() ruleKeyValue} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleKeyValue
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestRuleKeyInterfaceImmutable withRuleKeyValue(String value) {
+    if (this.ruleKeyValue.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "ruleKeyValue");
+    return new TestRuleKeyInterfaceImmutable(this, newValue, this.nonRuleKeyValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RuleKeyTest.AbstractTestRuleKeyInterfaceImmutable#getNonRuleKeyValue() nonRuleKeyValue} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for nonRuleKeyValue
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestRuleKeyInterfaceImmutable withNonRuleKeyValue(String value) {
+    if (this.nonRuleKeyValue.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "nonRuleKeyValue");
+    return new TestRuleKeyInterfaceImmutable(this, this.ruleKeyValue, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TestRuleKeyInterfaceImmutable} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TestRuleKeyInterfaceImmutable
+        && equalTo((TestRuleKeyInterfaceImmutable) another);
+  }
+
+  private boolean equalTo(TestRuleKeyInterfaceImmutable another) {
+    return ruleKeyValue.equals(another.ruleKeyValue)
+        && nonRuleKeyValue.equals(another.nonRuleKeyValue);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleKeyValue}, {@code nonRuleKeyValue}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + ruleKeyValue.hashCode();
+    h += (h << 5) + nonRuleKeyValue.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TestRuleKeyInterfaceImmutable} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestRuleKeyInterfaceImmutable")
+        .omitNullValues()
+        .add("ruleKeyValue", ruleKeyValue)
+        .add("nonRuleKeyValue", nonRuleKeyValue)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TestRuleKeyInterfaceImmutable} instance.
+   * @param ruleKeyValue The value for the {@code ruleKeyValue} attribute
+   * @param nonRuleKeyValue The value for the {@code nonRuleKeyValue} attribute
+   * @return An immutable TestRuleKeyInterfaceImmutable instance
+   */
+  public static TestRuleKeyInterfaceImmutable of(String ruleKeyValue, String nonRuleKeyValue) {
+    return new TestRuleKeyInterfaceImmutable(ruleKeyValue, nonRuleKeyValue);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link RuleKeyTest.AbstractTestRuleKeyInterfaceImmutable} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable TestRuleKeyInterfaceImmutable instance
+   */
+  static TestRuleKeyInterfaceImmutable copyOf(RuleKeyTest.AbstractTestRuleKeyInterfaceImmutable instance) {
+    if (instance instanceof TestRuleKeyInterfaceImmutable) {
+      return (TestRuleKeyInterfaceImmutable) instance;
+    }
+    return TestRuleKeyInterfaceImmutable.of(instance.getRuleKeyValue(), instance.getNonRuleKeyValue());
+  }
+}
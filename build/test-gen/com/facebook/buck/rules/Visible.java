@@ -0,0 +1,209 @@
+package com.facebook.buck.rules;
+
+import com.facebook.buck.model.BuildTargetPattern;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link BuckPyFunctionTest.AbstractVisible}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code Visible.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuckPyFunctionTest.AbstractVisible"})
+@Immutable
+public final class Visible extends BuckPyFunctionTest.AbstractVisible {
+  private final ImmutableSet<BuildTargetPattern> visibility;
+
+  private Visible(ImmutableSet<BuildTargetPattern> visibility) {
+    this.visibility = visibility;
+  }
+
+  /**
+   * @return The value of the {@code visibility} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTargetPattern> getVisibility() {
+    return visibility;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link BuckPyFunctionTest.AbstractVisible#getVisibility() visibility}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final Visible withVisibility(BuildTargetPattern... elements) {
+    ImmutableSet<BuildTargetPattern> newValue = ImmutableSet.copyOf(elements);
+    return new Visible(newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link BuckPyFunctionTest.AbstractVisible#getVisibility() visibility}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of visibility elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final Visible withVisibility(Iterable<? extends BuildTargetPattern> elements) {
+    if (this.visibility == elements) return this;
+    ImmutableSet<BuildTargetPattern> newValue = ImmutableSet.copyOf(elements);
+    return new Visible(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code Visible} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof Visible
+        && equalTo((Visible) another);
+  }
+
+  private boolean equalTo(Visible another) {
+    return visibility.equals(another.visibility);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code visibility}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + visibility.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code Visible} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("Visible")
+        .omitNullValues()
+        .add("visibility", visibility)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link BuckPyFunctionTest.AbstractVisible} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable Visible instance
+   */
+  static Visible copyOf(BuckPyFunctionTest.AbstractVisible instance) {
+    if (instance instanceof Visible) {
+      return (Visible) instance;
+    }
+    return Visible.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link Visible Visible}.
+   * @return A new Visible builder
+   */
+  public static Visible.Builder builder() {
+    return new Visible.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link Visible Visible}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSet.Builder<BuildTargetPattern> visibility = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code Visible} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(Visible instance) {
+      return from((BuckPyFunctionTest.AbstractVisible) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractVisible} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(BuckPyFunctionTest.AbstractVisible instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllVisibility(instance.getVisibility());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link BuckPyFunctionTest.AbstractVisible#getVisibility() visibility} set.
+     * @param element A visibility element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addVisibility(BuildTargetPattern element) {
+      this.visibility.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link BuckPyFunctionTest.AbstractVisible#getVisibility() visibility} set.
+     * @param elements An array of visibility elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addVisibility(BuildTargetPattern... elements) {
+      this.visibility.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link BuckPyFunctionTest.AbstractVisible#getVisibility() visibility} set.
+     * @param elements An iterable of visibility elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVisibility(Iterable<? extends BuildTargetPattern> elements) {
+      this.visibility = ImmutableSet.builder();
+      return addAllVisibility(elements);
+    }
+
+    /**
+     * Adds elements to {@link BuckPyFunctionTest.AbstractVisible#getVisibility() visibility} set.
+     * @param elements An iterable of visibility elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllVisibility(Iterable<? extends BuildTargetPattern> elements) {
+      this.visibility.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link Visible Visible}.
+     * @return An immutable instance of Visible
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public Visible build() {
+      return new Visible(visibility.build());
+    }
+  }
+}
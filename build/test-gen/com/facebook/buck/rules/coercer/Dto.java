@@ -0,0 +1,1048 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link CoercedTypeCacheTest.AbstractDto}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code Dto.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "CoercedTypeCacheTest.AbstractDto"})
+@Immutable
+public final class Dto extends CoercedTypeCacheTest.AbstractDto {
+  private final @Nullable String optional;
+  private final String required;
+  private final String getDefault;
+  private final String nonDep;
+  private final String overriddenInterfaceNonDep;
+  private final String consistentOverriddenInterfaceNonDep;
+  private final String nonInput;
+  private final String overriddenInterfaceNonInput;
+  private final String consistentOverriddenInterfaceNonInput;
+  private final @Nullable String interfaceOptional;
+  private final String interfaceDefault;
+  private final String interfaceNonDep;
+  private final String interfaceNonInput;
+
+  private Dto(Dto.Builder builder) {
+    this.optional = builder.optional;
+    this.required = builder.required;
+    this.nonDep = builder.nonDep;
+    this.overriddenInterfaceNonDep = builder.overriddenInterfaceNonDep;
+    this.consistentOverriddenInterfaceNonDep = builder.consistentOverriddenInterfaceNonDep;
+    this.nonInput = builder.nonInput;
+    this.overriddenInterfaceNonInput = builder.overriddenInterfaceNonInput;
+    this.consistentOverriddenInterfaceNonInput = builder.consistentOverriddenInterfaceNonInput;
+    this.interfaceOptional = builder.interfaceOptional;
+    this.interfaceNonDep = builder.interfaceNonDep;
+    this.interfaceNonInput = builder.interfaceNonInput;
+    if (builder.getDefault != null) {
+      initShim.setDefault(builder.getDefault);
+    }
+    if (builder.interfaceDefault != null) {
+      initShim.setInterfaceDefault(builder.interfaceDefault);
+    }
+    this.getDefault = initShim.getDefault();
+    this.interfaceDefault = initShim.getInterfaceDefault();
+    this.initShim = null;
+  }
+
+  private Dto(
+      @Nullable String optional,
+      String required,
+      String getDefault,
+      String nonDep,
+      String overriddenInterfaceNonDep,
+      String consistentOverriddenInterfaceNonDep,
+      String nonInput,
+      String overriddenInterfaceNonInput,
+      String consistentOverriddenInterfaceNonInput,
+      @Nullable String interfaceOptional,
+      String interfaceDefault,
+      String interfaceNonDep,
+      String interfaceNonInput) {
+    this.optional = optional;
+    this.required = required;
+    this.getDefault = getDefault;
+    this.nonDep = nonDep;
+    this.overriddenInterfaceNonDep = overriddenInterfaceNonDep;
+    this.consistentOverriddenInterfaceNonDep = consistentOverriddenInterfaceNonDep;
+    this.nonInput = nonInput;
+    this.overriddenInterfaceNonInput = overriddenInterfaceNonInput;
+    this.consistentOverriddenInterfaceNonInput = consistentOverriddenInterfaceNonInput;
+    this.interfaceOptional = interfaceOptional;
+    this.interfaceDefault = interfaceDefault;
+    this.interfaceNonDep = interfaceNonDep;
+    this.interfaceNonInput = interfaceNonInput;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private String getDefault;
+    private int getDefaultBuildStage;
+
+    String getDefault() {
+      if (getDefaultBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (getDefaultBuildStage == STAGE_UNINITIALIZED) {
+        getDefaultBuildStage = STAGE_INITIALIZING;
+        this.getDefault = Objects.requireNonNull(Dto.super.getDefault(), "getDefault");
+        getDefaultBuildStage = STAGE_INITIALIZED;
+      }
+      return this.getDefault;
+    }
+
+    void setDefault(String getDefault) {
+      this.getDefault = getDefault;
+      getDefaultBuildStage = STAGE_INITIALIZED;
+    }
+    private String interfaceDefault;
+    private int interfaceDefaultBuildStage;
+
+    String getInterfaceDefault() {
+      if (interfaceDefaultBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (interfaceDefaultBuildStage == STAGE_UNINITIALIZED) {
+        interfaceDefaultBuildStage = STAGE_INITIALIZING;
+        this.interfaceDefault = Objects.requireNonNull(Dto.super.getInterfaceDefault(), "interfaceDefault");
+        interfaceDefaultBuildStage = STAGE_INITIALIZED;
+      }
+      return this.interfaceDefault;
+    }
+
+    void setInterfaceDefault(String interfaceDefault) {
+      this.interfaceDefault = interfaceDefault;
+      interfaceDefaultBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (getDefaultBuildStage == STAGE_INITIALIZING) attributes.add("getDefault");
+      if (interfaceDefaultBuildStage == STAGE_INITIALIZING) attributes.add("interfaceDefault");
+      return "Cannot build Dto, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code optional} attribute
+   */
+  @Override
+  public Optional<String> getOptional() {
+    return Optional.ofNullable(optional);
+  }
+
+  /**
+   * @return The value of the {@code required} attribute
+   */
+  @Override
+  public String getRequired() {
+    return required;
+  }
+
+  /**
+   * @return The value of the {@code getDefault} attribute
+   */
+  @Override
+  public String getDefault() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDefault()
+        : this.getDefault;
+  }
+
+  /**
+   * @return The value of the {@code nonDep} attribute
+   */
+  @Override
+  public String getNonDep() {
+    return nonDep;
+  }
+
+  /**
+   * @return The value of the {@code overriddenInterfaceNonDep} attribute
+   */
+  @Override
+  public String getOverriddenInterfaceNonDep() {
+    return overriddenInterfaceNonDep;
+  }
+
+  /**
+   * @return The value of the {@code consistentOverriddenInterfaceNonDep} attribute
+   */
+  @Override
+  public String getConsistentOverriddenInterfaceNonDep() {
+    return consistentOverriddenInterfaceNonDep;
+  }
+
+  /**
+   * @return The value of the {@code nonInput} attribute
+   */
+  @Override
+  public String getNonInput() {
+    return nonInput;
+  }
+
+  /**
+   * @return The value of the {@code overriddenInterfaceNonInput} attribute
+   */
+  @Override
+  public String getOverriddenInterfaceNonInput() {
+    return overriddenInterfaceNonInput;
+  }
+
+  /**
+   * @return The value of the {@code consistentOverriddenInterfaceNonInput} attribute
+   */
+  @Override
+  public String getConsistentOverriddenInterfaceNonInput() {
+    return consistentOverriddenInterfaceNonInput;
+  }
+
+  /**
+   * @return The value of the {@code interfaceOptional} attribute
+   */
+  @Override
+  public Optional<String> getInterfaceOptional() {
+    return Optional.ofNullable(interfaceOptional);
+  }
+
+  /**
+   * @return The value of the {@code interfaceDefault} attribute
+   */
+  @Override
+  public String getInterfaceDefault() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getInterfaceDefault()
+        : this.interfaceDefault;
+  }
+
+  /**
+   * @return The value of the {@code interfaceNonDep} attribute
+   */
+  @Override
+  public String getInterfaceNonDep() {
+    return interfaceNonDep;
+  }
+
+  /**
+   * @return The value of the {@code interfaceNonInput} attribute
+   */
+  @Override
+  public String getInterfaceNonInput() {
+    return interfaceNonInput;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CoercedTypeCacheTest.AbstractDto#getOptional() optional} attribute.
+   * @param value The value for optional
+   * @return A modified copy of {@code this} object
+   */
+  public final Dto withOptional(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "optional");
+    if (Objects.equals(this.optional, newValue)) return this;
+    return new Dto(
+        newValue,
+        this.required,
+        this.getDefault,
+        this.nonDep,
+        this.overriddenInterfaceNonDep,
+        this.consistentOverriddenInterfaceNonDep,
+        this.nonInput,
+        this.overriddenInterfaceNonInput,
+        this.consistentOverriddenInterfaceNonInput,
+        this.interfaceOptional,
+        this.interfaceDefault,
+        this.interfaceNonDep,
+        this.interfaceNonInput);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CoercedTypeCacheTest.AbstractDto#getOptional() optional} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for optional
+   * @return A modified copy of {@code this} object
+   */
+  public final Dto withOptional(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.optional, value)) return this;
+    return new Dto(
+        value,
+        this.required,
+        this.getDefault,
+        this.nonDep,
+        this.overriddenInterfaceNonDep,
+        this.consistentOverriddenInterfaceNonDep,
+        this.nonInput,
+        this.overriddenInterfaceNonInput,
+        this.consistentOverriddenInterfaceNonInput,
+        this.interfaceOptional,
+        this.interfaceDefault,
+        this.interfaceNonDep,
+        this.interfaceNonInput);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CoercedTypeCacheTest.AbstractDto#getRequired() required} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for required
+   * @return A modified copy of the {@code this} object
+   */
+  public final Dto withRequired(String value) {
+    if (this.required.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "required");
+    return new Dto(
+        this.optional,
+        newValue,
+        this.getDefault,
+        this.nonDep,
+        this.overriddenInterfaceNonDep,
+        this.consistentOverriddenInterfaceNonDep,
+        this.nonInput,
+        this.overriddenInterfaceNonInput,
+        this.consistentOverriddenInterfaceNonInput,
+        this.interfaceOptional,
+        this.interfaceDefault,
+        this.interfaceNonDep,
+        this.interfaceNonInput);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CoercedTypeCacheTest.AbstractDto#getDefault() default} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for getDefault
+   * @return A modified copy of the {@code this} object
+   */
+  public final Dto withDefault(String value) {
+    if (this.getDefault.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "getDefault");
+    return new Dto(
+        this.optional,
+        this.required,
+        newValue,
+        this.nonDep,
+        this.overriddenInterfaceNonDep,
+        this.consistentOverriddenInterfaceNonDep,
+        this.nonInput,
+        this.overriddenInterfaceNonInput,
+        this.consistentOverriddenInterfaceNonInput,
+        this.interfaceOptional,
+        this.interfaceDefault,
+        this.interfaceNonDep,
+        this.interfaceNonInput);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CoercedTypeCacheTest.AbstractDto#getNonDep() nonDep} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for nonDep
+   * @return A modified copy of the {@code this} object
+   */
+  public final Dto withNonDep(String value) {
+    if (this.nonDep.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "nonDep");
+    return new Dto(
+        this.optional,
+        this.required,
+        this.getDefault,
+        newValue,
+        this.overriddenInterfaceNonDep,
+        this.consistentOverriddenInterfaceNonDep,
+        this.nonInput,
+        this.overriddenInterfaceNonInput,
+        this.consistentOverriddenInterfaceNonInput,
+        this.interfaceOptional,
+        this.interfaceDefault,
+        this.interfaceNonDep,
+        this.interfaceNonInput);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CoercedTypeCacheTest.AbstractDto#getOverriddenInterfaceNonDep() overriddenInterfaceNonDep} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for overriddenInterfaceNonDep
+   * @return A modified copy of the {@code this} object
+   */
+  public final Dto withOverriddenInterfaceNonDep(String value) {
+    if (this.overriddenInterfaceNonDep.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "overriddenInterfaceNonDep");
+    return new Dto(
+        this.optional,
+        this.required,
+        this.getDefault,
+        this.nonDep,
+        newValue,
+        this.consistentOverriddenInterfaceNonDep,
+        this.nonInput,
+        this.overriddenInterfaceNonInput,
+        this.consistentOverriddenInterfaceNonInput,
+        this.interfaceOptional,
+        this.interfaceDefault,
+        this.interfaceNonDep,
+        this.interfaceNonInput);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CoercedTypeCacheTest.AbstractDto#getConsistentOverriddenInterfaceNonDep() consistentOverriddenInterfaceNonDep} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for consistentOverriddenInterfaceNonDep
+   * @return A modified copy of the {@code this} object
+   */
+  public final Dto withConsistentOverriddenInterfaceNonDep(String value) {
+    if (this.consistentOverriddenInterfaceNonDep.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "consistentOverriddenInterfaceNonDep");
+    return new Dto(
+        this.optional,
+        this.required,
+        this.getDefault,
+        this.nonDep,
+        this.overriddenInterfaceNonDep,
+        newValue,
+        this.nonInput,
+        this.overriddenInterfaceNonInput,
+        this.consistentOverriddenInterfaceNonInput,
+        this.interfaceOptional,
+        this.interfaceDefault,
+        this.interfaceNonDep,
+        this.interfaceNonInput);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CoercedTypeCacheTest.AbstractDto#getNonInput() nonInput} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for nonInput
+   * @return A modified copy of the {@code this} object
+   */
+  public final Dto withNonInput(String value) {
+    if (this.nonInput.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "nonInput");
+    return new Dto(
+        this.optional,
+        this.required,
+        this.getDefault,
+        this.nonDep,
+        this.overriddenInterfaceNonDep,
+        this.consistentOverriddenInterfaceNonDep,
+        newValue,
+        this.overriddenInterfaceNonInput,
+        this.consistentOverriddenInterfaceNonInput,
+        this.interfaceOptional,
+        this.interfaceDefault,
+        this.interfaceNonDep,
+        this.interfaceNonInput);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CoercedTypeCacheTest.AbstractDto#getOverriddenInterfaceNonInput() overriddenInterfaceNonInput} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for overriddenInterfaceNonInput
+   * @return A modified copy of the {@code this} object
+   */
+  public final Dto withOverriddenInterfaceNonInput(String value) {
+    if (this.overriddenInterfaceNonInput.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "overriddenInterfaceNonInput");
+    return new Dto(
+        this.optional,
+        this.required,
+        this.getDefault,
+        this.nonDep,
+        this.overriddenInterfaceNonDep,
+        this.consistentOverriddenInterfaceNonDep,
+        this.nonInput,
+        newValue,
+        this.consistentOverriddenInterfaceNonInput,
+        this.interfaceOptional,
+        this.interfaceDefault,
+        this.interfaceNonDep,
+        this.interfaceNonInput);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CoercedTypeCacheTest.AbstractDto#getConsistentOverriddenInterfaceNonInput() consistentOverriddenInterfaceNonInput} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for consistentOverriddenInterfaceNonInput
+   * @return A modified copy of the {@code this} object
+   */
+  public final Dto withConsistentOverriddenInterfaceNonInput(String value) {
+    if (this.consistentOverriddenInterfaceNonInput.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "consistentOverriddenInterfaceNonInput");
+    return new Dto(
+        this.optional,
+        this.required,
+        this.getDefault,
+        this.nonDep,
+        this.overriddenInterfaceNonDep,
+        this.consistentOverriddenInterfaceNonDep,
+        this.nonInput,
+        this.overriddenInterfaceNonInput,
+        newValue,
+        this.interfaceOptional,
+        this.interfaceDefault,
+        this.interfaceNonDep,
+        this.interfaceNonInput);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CoercedTypeCacheTest.AbstractDto#getInterfaceOptional() interfaceOptional} attribute.
+   * @param value The value for interfaceOptional
+   * @return A modified copy of {@code this} object
+   */
+  public final Dto withInterfaceOptional(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "interfaceOptional");
+    if (Objects.equals(this.interfaceOptional, newValue)) return this;
+    return new Dto(
+        this.optional,
+        this.required,
+        this.getDefault,
+        this.nonDep,
+        this.overriddenInterfaceNonDep,
+        this.consistentOverriddenInterfaceNonDep,
+        this.nonInput,
+        this.overriddenInterfaceNonInput,
+        this.consistentOverriddenInterfaceNonInput,
+        newValue,
+        this.interfaceDefault,
+        this.interfaceNonDep,
+        this.interfaceNonInput);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CoercedTypeCacheTest.AbstractDto#getInterfaceOptional() interfaceOptional} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for interfaceOptional
+   * @return A modified copy of {@code this} object
+   */
+  public final Dto withInterfaceOptional(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.interfaceOptional, value)) return this;
+    return new Dto(
+        this.optional,
+        this.required,
+        this.getDefault,
+        this.nonDep,
+        this.overriddenInterfaceNonDep,
+        this.consistentOverriddenInterfaceNonDep,
+        this.nonInput,
+        this.overriddenInterfaceNonInput,
+        this.consistentOverriddenInterfaceNonInput,
+        value,
+        this.interfaceDefault,
+        this.interfaceNonDep,
+        this.interfaceNonInput);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CoercedTypeCacheTest.AbstractDto#getInterfaceDefault() interfaceDefault} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for interfaceDefault
+   * @return A modified copy of the {@code this} object
+   */
+  public final Dto withInterfaceDefault(String value) {
+    if (this.interfaceDefault.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "interfaceDefault");
+    return new Dto(
+        this.optional,
+        this.required,
+        this.getDefault,
+        this.nonDep,
+        this.overriddenInterfaceNonDep,
+        this.consistentOverriddenInterfaceNonDep,
+        this.nonInput,
+        this.overriddenInterfaceNonInput,
+        this.consistentOverriddenInterfaceNonInput,
+        this.interfaceOptional,
+        newValue,
+        this.interfaceNonDep,
+        this.interfaceNonInput);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CoercedTypeCacheTest.AbstractDto#getInterfaceNonDep() interfaceNonDep} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for interfaceNonDep
+   * @return A modified copy of the {@code this} object
+   */
+  public final Dto withInterfaceNonDep(String value) {
+    if (this.interfaceNonDep.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "interfaceNonDep");
+    return new Dto(
+        this.optional,
+        this.required,
+        this.getDefault,
+        this.nonDep,
+        this.overriddenInterfaceNonDep,
+        this.consistentOverriddenInterfaceNonDep,
+        this.nonInput,
+        this.overriddenInterfaceNonInput,
+        this.consistentOverriddenInterfaceNonInput,
+        this.interfaceOptional,
+        this.interfaceDefault,
+        newValue,
+        this.interfaceNonInput);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CoercedTypeCacheTest.AbstractDto#getInterfaceNonInput() interfaceNonInput} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for interfaceNonInput
+   * @return A modified copy of the {@code this} object
+   */
+  public final Dto withInterfaceNonInput(String value) {
+    if (this.interfaceNonInput.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "interfaceNonInput");
+    return new Dto(
+        this.optional,
+        this.required,
+        this.getDefault,
+        this.nonDep,
+        this.overriddenInterfaceNonDep,
+        this.consistentOverriddenInterfaceNonDep,
+        this.nonInput,
+        this.overriddenInterfaceNonInput,
+        this.consistentOverriddenInterfaceNonInput,
+        this.interfaceOptional,
+        this.interfaceDefault,
+        this.interfaceNonDep,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code Dto} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof Dto
+        && equalTo((Dto) another);
+  }
+
+  private boolean equalTo(Dto another) {
+    return Objects.equals(optional, another.optional)
+        && required.equals(another.required)
+        && getDefault.equals(another.getDefault)
+        && nonDep.equals(another.nonDep)
+        && overriddenInterfaceNonDep.equals(another.overriddenInterfaceNonDep)
+        && consistentOverriddenInterfaceNonDep.equals(another.consistentOverriddenInterfaceNonDep)
+        && nonInput.equals(another.nonInput)
+        && overriddenInterfaceNonInput.equals(another.overriddenInterfaceNonInput)
+        && consistentOverriddenInterfaceNonInput.equals(another.consistentOverriddenInterfaceNonInput)
+        && Objects.equals(interfaceOptional, another.interfaceOptional)
+        && interfaceDefault.equals(another.interfaceDefault)
+        && interfaceNonDep.equals(another.interfaceNonDep)
+        && interfaceNonInput.equals(another.interfaceNonInput);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code optional}, {@code required}, {@code getDefault}, {@code nonDep}, {@code overriddenInterfaceNonDep}, {@code consistentOverriddenInterfaceNonDep}, {@code nonInput}, {@code overriddenInterfaceNonInput}, {@code consistentOverriddenInterfaceNonInput}, {@code interfaceOptional}, {@code interfaceDefault}, {@code interfaceNonDep}, {@code interfaceNonInput}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(optional);
+    h += (h << 5) + required.hashCode();
+    h += (h << 5) + getDefault.hashCode();
+    h += (h << 5) + nonDep.hashCode();
+    h += (h << 5) + overriddenInterfaceNonDep.hashCode();
+    h += (h << 5) + consistentOverriddenInterfaceNonDep.hashCode();
+    h += (h << 5) + nonInput.hashCode();
+    h += (h << 5) + overriddenInterfaceNonInput.hashCode();
+    h += (h << 5) + consistentOverriddenInterfaceNonInput.hashCode();
+    h += (h << 5) + Objects.hashCode(interfaceOptional);
+    h += (h << 5) + interfaceDefault.hashCode();
+    h += (h << 5) + interfaceNonDep.hashCode();
+    h += (h << 5) + interfaceNonInput.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code Dto} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("Dto")
+        .omitNullValues()
+        .add("optional", optional)
+        .add("required", required)
+        .add("default", getDefault)
+        .add("nonDep", nonDep)
+        .add("overriddenInterfaceNonDep", overriddenInterfaceNonDep)
+        .add("consistentOverriddenInterfaceNonDep", consistentOverriddenInterfaceNonDep)
+        .add("nonInput", nonInput)
+        .add("overriddenInterfaceNonInput", overriddenInterfaceNonInput)
+        .add("consistentOverriddenInterfaceNonInput", consistentOverriddenInterfaceNonInput)
+        .add("interfaceOptional", interfaceOptional)
+        .add("interfaceDefault", interfaceDefault)
+        .add("interfaceNonDep", interfaceNonDep)
+        .add("interfaceNonInput", interfaceNonInput)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link CoercedTypeCacheTest.AbstractDto} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable Dto instance
+   */
+  static Dto copyOf(CoercedTypeCacheTest.AbstractDto instance) {
+    if (instance instanceof Dto) {
+      return (Dto) instance;
+    }
+    return Dto.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link Dto Dto}.
+   * @return A new Dto builder
+   */
+  public static Dto.Builder builder() {
+    return new Dto.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link Dto Dto}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_REQUIRED = 0x1L;
+    private static final long INIT_BIT_NON_DEP = 0x2L;
+    private static final long INIT_BIT_OVERRIDDEN_INTERFACE_NON_DEP = 0x4L;
+    private static final long INIT_BIT_CONSISTENT_OVERRIDDEN_INTERFACE_NON_DEP = 0x8L;
+    private static final long INIT_BIT_NON_INPUT = 0x10L;
+    private static final long INIT_BIT_OVERRIDDEN_INTERFACE_NON_INPUT = 0x20L;
+    private static final long INIT_BIT_CONSISTENT_OVERRIDDEN_INTERFACE_NON_INPUT = 0x40L;
+    private static final long INIT_BIT_INTERFACE_NON_DEP = 0x80L;
+    private static final long INIT_BIT_INTERFACE_NON_INPUT = 0x100L;
+    private long initBits = 0x1ffL;
+
+    private @Nullable String optional;
+    private @Nullable String required;
+    private @Nullable String getDefault;
+    private @Nullable String nonDep;
+    private @Nullable String overriddenInterfaceNonDep;
+    private @Nullable String consistentOverriddenInterfaceNonDep;
+    private @Nullable String nonInput;
+    private @Nullable String overriddenInterfaceNonInput;
+    private @Nullable String consistentOverriddenInterfaceNonInput;
+    private @Nullable String interfaceOptional;
+    private @Nullable String interfaceDefault;
+    private @Nullable String interfaceNonDep;
+    private @Nullable String interfaceNonInput;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code Dto} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(Dto instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDto} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(CoercedTypeCacheTest.AbstractDto instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.coercer.CoercedTypeCacheTest.DtoInterface} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CoercedTypeCacheTest.DtoInterface instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof CoercedTypeCacheTest.AbstractDto) {
+        CoercedTypeCacheTest.AbstractDto instance = (CoercedTypeCacheTest.AbstractDto) object;
+        if ((bits & 0x2L) == 0) {
+          setConsistentOverriddenInterfaceNonDep(instance.getConsistentOverriddenInterfaceNonDep());
+          bits |= 0x2L;
+        }
+        if ((bits & 0x4L) == 0) {
+          setOverriddenInterfaceNonInput(instance.getOverriddenInterfaceNonInput());
+          bits |= 0x4L;
+        }
+        setNonDep(instance.getNonDep());
+        if ((bits & 0x8L) == 0) {
+          setOverriddenInterfaceNonDep(instance.getOverriddenInterfaceNonDep());
+          bits |= 0x8L;
+        }
+        Optional<String> optionalOptional = instance.getOptional();
+        if (optionalOptional.isPresent()) {
+          setOptional(optionalOptional);
+        }
+        setDefault(instance.getDefault());
+        if ((bits & 0x1L) == 0) {
+          setConsistentOverriddenInterfaceNonInput(instance.getConsistentOverriddenInterfaceNonInput());
+          bits |= 0x1L;
+        }
+        setRequired(instance.getRequired());
+        setNonInput(instance.getNonInput());
+      }
+      if (object instanceof CoercedTypeCacheTest.DtoInterface) {
+        CoercedTypeCacheTest.DtoInterface instance = (CoercedTypeCacheTest.DtoInterface) object;
+        Optional<String> interfaceOptionalOptional = instance.getInterfaceOptional();
+        if (interfaceOptionalOptional.isPresent()) {
+          setInterfaceOptional(interfaceOptionalOptional);
+        }
+        if ((bits & 0x2L) == 0) {
+          setConsistentOverriddenInterfaceNonDep(instance.getConsistentOverriddenInterfaceNonDep());
+          bits |= 0x2L;
+        }
+        if ((bits & 0x4L) == 0) {
+          setOverriddenInterfaceNonInput(instance.getOverriddenInterfaceNonInput());
+          bits |= 0x4L;
+        }
+        if ((bits & 0x8L) == 0) {
+          setOverriddenInterfaceNonDep(instance.getOverriddenInterfaceNonDep());
+          bits |= 0x8L;
+        }
+        setInterfaceNonDep(instance.getInterfaceNonDep());
+        setInterfaceNonInput(instance.getInterfaceNonInput());
+        if ((bits & 0x1L) == 0) {
+          setConsistentOverriddenInterfaceNonInput(instance.getConsistentOverriddenInterfaceNonInput());
+          bits |= 0x1L;
+        }
+        setInterfaceDefault(instance.getInterfaceDefault());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link CoercedTypeCacheTest.AbstractDto#getOptional() optional} to optional.
+     * @param optional The value for optional
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOptional(String optional) {
+      this.optional = Objects.requireNonNull(optional, "optional");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CoercedTypeCacheTest.AbstractDto#getOptional() optional} to optional.
+     * @param optional The value for optional
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOptional(Optional<String> optional) {
+      this.optional = optional.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CoercedTypeCacheTest.AbstractDto#getRequired() required} attribute.
+     * @param required The value for required 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRequired(String required) {
+      this.required = Objects.requireNonNull(required, "required");
+      initBits &= ~INIT_BIT_REQUIRED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link CoercedTypeCacheTest.AbstractDto#getDefault() default} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CoercedTypeCacheTest.AbstractDto#getDefault() default}.</em>
+     * @param getDefault The value for getDefault 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDefault(String getDefault) {
+      this.getDefault = Objects.requireNonNull(getDefault, "getDefault");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link CoercedTypeCacheTest.AbstractDto#getNonDep() nonDep} attribute.
+     * @param nonDep The value for nonDep 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNonDep(String nonDep) {
+      this.nonDep = Objects.requireNonNull(nonDep, "nonDep");
+      initBits &= ~INIT_BIT_NON_DEP;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link CoercedTypeCacheTest.AbstractDto#getOverriddenInterfaceNonDep() overriddenInterfaceNonDep} attribute.
+     * @param overriddenInterfaceNonDep The value for overriddenInterfaceNonDep 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOverriddenInterfaceNonDep(String overriddenInterfaceNonDep) {
+      this.overriddenInterfaceNonDep = Objects.requireNonNull(overriddenInterfaceNonDep, "overriddenInterfaceNonDep");
+      initBits &= ~INIT_BIT_OVERRIDDEN_INTERFACE_NON_DEP;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link CoercedTypeCacheTest.AbstractDto#getConsistentOverriddenInterfaceNonDep() consistentOverriddenInterfaceNonDep} attribute.
+     * @param consistentOverriddenInterfaceNonDep The value for consistentOverriddenInterfaceNonDep 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setConsistentOverriddenInterfaceNonDep(String consistentOverriddenInterfaceNonDep) {
+      this.consistentOverriddenInterfaceNonDep = Objects.requireNonNull(consistentOverriddenInterfaceNonDep, "consistentOverriddenInterfaceNonDep");
+      initBits &= ~INIT_BIT_CONSISTENT_OVERRIDDEN_INTERFACE_NON_DEP;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link CoercedTypeCacheTest.AbstractDto#getNonInput() nonInput} attribute.
+     * @param nonInput The value for nonInput 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNonInput(String nonInput) {
+      this.nonInput = Objects.requireNonNull(nonInput, "nonInput");
+      initBits &= ~INIT_BIT_NON_INPUT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link CoercedTypeCacheTest.AbstractDto#getOverriddenInterfaceNonInput() overriddenInterfaceNonInput} attribute.
+     * @param overriddenInterfaceNonInput The value for overriddenInterfaceNonInput 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOverriddenInterfaceNonInput(String overriddenInterfaceNonInput) {
+      this.overriddenInterfaceNonInput = Objects.requireNonNull(overriddenInterfaceNonInput, "overriddenInterfaceNonInput");
+      initBits &= ~INIT_BIT_OVERRIDDEN_INTERFACE_NON_INPUT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link CoercedTypeCacheTest.AbstractDto#getConsistentOverriddenInterfaceNonInput() consistentOverriddenInterfaceNonInput} attribute.
+     * @param consistentOverriddenInterfaceNonInput The value for consistentOverriddenInterfaceNonInput 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setConsistentOverriddenInterfaceNonInput(String consistentOverriddenInterfaceNonInput) {
+      this.consistentOverriddenInterfaceNonInput = Objects.requireNonNull(consistentOverriddenInterfaceNonInput, "consistentOverriddenInterfaceNonInput");
+      initBits &= ~INIT_BIT_CONSISTENT_OVERRIDDEN_INTERFACE_NON_INPUT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link CoercedTypeCacheTest.AbstractDto#getInterfaceOptional() interfaceOptional} to interfaceOptional.
+     * @param interfaceOptional The value for interfaceOptional
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setInterfaceOptional(String interfaceOptional) {
+      this.interfaceOptional = Objects.requireNonNull(interfaceOptional, "interfaceOptional");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CoercedTypeCacheTest.AbstractDto#getInterfaceOptional() interfaceOptional} to interfaceOptional.
+     * @param interfaceOptional The value for interfaceOptional
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInterfaceOptional(Optional<String> interfaceOptional) {
+      this.interfaceOptional = interfaceOptional.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CoercedTypeCacheTest.AbstractDto#getInterfaceDefault() interfaceDefault} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CoercedTypeCacheTest.AbstractDto#getInterfaceDefault() interfaceDefault}.</em>
+     * @param interfaceDefault The value for interfaceDefault 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInterfaceDefault(String interfaceDefault) {
+      this.interfaceDefault = Objects.requireNonNull(interfaceDefault, "interfaceDefault");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link CoercedTypeCacheTest.AbstractDto#getInterfaceNonDep() interfaceNonDep} attribute.
+     * @param interfaceNonDep The value for interfaceNonDep 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInterfaceNonDep(String interfaceNonDep) {
+      this.interfaceNonDep = Objects.requireNonNull(interfaceNonDep, "interfaceNonDep");
+      initBits &= ~INIT_BIT_INTERFACE_NON_DEP;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link CoercedTypeCacheTest.AbstractDto#getInterfaceNonInput() interfaceNonInput} attribute.
+     * @param interfaceNonInput The value for interfaceNonInput 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInterfaceNonInput(String interfaceNonInput) {
+      this.interfaceNonInput = Objects.requireNonNull(interfaceNonInput, "interfaceNonInput");
+      initBits &= ~INIT_BIT_INTERFACE_NON_INPUT;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link Dto Dto}.
+     * @return An immutable instance of Dto
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public Dto build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new Dto(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_REQUIRED) != 0) attributes.add("required");
+      if ((initBits & INIT_BIT_NON_DEP) != 0) attributes.add("nonDep");
+      if ((initBits & INIT_BIT_OVERRIDDEN_INTERFACE_NON_DEP) != 0) attributes.add("overriddenInterfaceNonDep");
+      if ((initBits & INIT_BIT_CONSISTENT_OVERRIDDEN_INTERFACE_NON_DEP) != 0) attributes.add("consistentOverriddenInterfaceNonDep");
+      if ((initBits & INIT_BIT_NON_INPUT) != 0) attributes.add("nonInput");
+      if ((initBits & INIT_BIT_OVERRIDDEN_INTERFACE_NON_INPUT) != 0) attributes.add("overriddenInterfaceNonInput");
+      if ((initBits & INIT_BIT_CONSISTENT_OVERRIDDEN_INTERFACE_NON_INPUT) != 0) attributes.add("consistentOverriddenInterfaceNonInput");
+      if ((initBits & INIT_BIT_INTERFACE_NON_DEP) != 0) attributes.add("interfaceNonDep");
+      if ((initBits & INIT_BIT_INTERFACE_NON_INPUT) != 0) attributes.add("interfaceNonInput");
+      return "Cannot build Dto, some of required attributes are not set " + attributes;
+    }
+  }
+}
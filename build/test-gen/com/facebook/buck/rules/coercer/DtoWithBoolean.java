@@ -0,0 +1,222 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBoolean}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithBoolean.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithBoolean"})
+@Immutable
+public final class DtoWithBoolean
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithBoolean {
+  private final boolean booleanOne;
+  private final boolean booleanTwo;
+
+  private DtoWithBoolean(boolean booleanOne, boolean booleanTwo) {
+    this.booleanOne = booleanOne;
+    this.booleanTwo = booleanTwo;
+  }
+
+  /**
+   * @return The value of the {@code booleanOne} attribute
+   */
+  @Override
+  public boolean getBooleanOne() {
+    return booleanOne;
+  }
+
+  /**
+   * @return The value of the {@code booleanTwo} attribute
+   */
+  @Override
+  public boolean isBooleanTwo() {
+    return booleanTwo;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBoolean#getBooleanOne() booleanOne} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for booleanOne
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithBoolean withBooleanOne(boolean value) {
+    if (this.booleanOne == value) return this;
+    return new DtoWithBoolean(value, this.booleanTwo);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBoolean#isBooleanTwo() booleanTwo} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for booleanTwo
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithBoolean withBooleanTwo(boolean value) {
+    if (this.booleanTwo == value) return this;
+    return new DtoWithBoolean(this.booleanOne, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithBoolean} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithBoolean
+        && equalTo((DtoWithBoolean) another);
+  }
+
+  private boolean equalTo(DtoWithBoolean another) {
+    return booleanOne == another.booleanOne
+        && booleanTwo == another.booleanTwo;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code booleanOne}, {@code booleanTwo}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Booleans.hashCode(booleanOne);
+    h += (h << 5) + Booleans.hashCode(booleanTwo);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithBoolean} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithBoolean")
+        .omitNullValues()
+        .add("booleanOne", booleanOne)
+        .add("booleanTwo", booleanTwo)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBoolean} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithBoolean instance
+   */
+  static DtoWithBoolean copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithBoolean instance) {
+    if (instance instanceof DtoWithBoolean) {
+      return (DtoWithBoolean) instance;
+    }
+    return DtoWithBoolean.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithBoolean DtoWithBoolean}.
+   * @return A new DtoWithBoolean builder
+   */
+  public static DtoWithBoolean.Builder builder() {
+    return new DtoWithBoolean.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithBoolean DtoWithBoolean}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BOOLEAN_ONE = 0x1L;
+    private static final long INIT_BIT_BOOLEAN_TWO = 0x2L;
+    private long initBits = 0x3L;
+
+    private boolean booleanOne;
+    private boolean booleanTwo;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithBoolean} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithBoolean instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithBoolean) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithBoolean} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithBoolean instance) {
+      Objects.requireNonNull(instance, "instance");
+      setBooleanOne(instance.getBooleanOne());
+      setBooleanTwo(instance.isBooleanTwo());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBoolean#getBooleanOne() booleanOne} attribute.
+     * @param booleanOne The value for booleanOne 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBooleanOne(boolean booleanOne) {
+      this.booleanOne = booleanOne;
+      initBits &= ~INIT_BIT_BOOLEAN_ONE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBoolean#isBooleanTwo() booleanTwo} attribute.
+     * @param booleanTwo The value for booleanTwo 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBooleanTwo(boolean booleanTwo) {
+      this.booleanTwo = booleanTwo;
+      initBits &= ~INIT_BIT_BOOLEAN_TWO;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DtoWithBoolean DtoWithBoolean}.
+     * @return An immutable instance of DtoWithBoolean
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithBoolean build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DtoWithBoolean(booleanOne, booleanTwo);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_BOOLEAN_ONE) != 0) attributes.add("booleanOne");
+      if ((initBits & INIT_BIT_BOOLEAN_TWO) != 0) attributes.add("booleanTwo");
+      return "Cannot build DtoWithBoolean, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,307 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargetList}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithBuildTargetList.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargetList"})
+@Immutable
+public final class DtoWithBuildTargetList
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargetList {
+  private final BuildTarget single;
+  private final BuildTarget sameBuildFileTarget;
+  private final ImmutableList<BuildTarget> targets;
+
+  private DtoWithBuildTargetList(
+      BuildTarget single,
+      BuildTarget sameBuildFileTarget,
+      ImmutableList<BuildTarget> targets) {
+    this.single = single;
+    this.sameBuildFileTarget = sameBuildFileTarget;
+    this.targets = targets;
+  }
+
+  /**
+   * @return The value of the {@code single} attribute
+   */
+  @Override
+  public BuildTarget getSingle() {
+    return single;
+  }
+
+  /**
+   * @return The value of the {@code sameBuildFileTarget} attribute
+   */
+  @Override
+  public BuildTarget getSameBuildFileTarget() {
+    return sameBuildFileTarget;
+  }
+
+  /**
+   * @return The value of the {@code targets} attribute
+   */
+  @Override
+  public ImmutableList<BuildTarget> getTargets() {
+    return targets;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargetList#getSingle() single} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for single
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithBuildTargetList withSingle(BuildTarget value) {
+    if (this.single == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "single");
+    return new DtoWithBuildTargetList(newValue, this.sameBuildFileTarget, this.targets);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargetList#getSameBuildFileTarget() sameBuildFileTarget} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sameBuildFileTarget
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithBuildTargetList withSameBuildFileTarget(BuildTarget value) {
+    if (this.sameBuildFileTarget == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "sameBuildFileTarget");
+    return new DtoWithBuildTargetList(this.single, newValue, this.targets);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargetList#getTargets() targets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithBuildTargetList withTargets(BuildTarget... elements) {
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new DtoWithBuildTargetList(this.single, this.sameBuildFileTarget, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargetList#getTargets() targets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of targets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithBuildTargetList withTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.targets == elements) return this;
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new DtoWithBuildTargetList(this.single, this.sameBuildFileTarget, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithBuildTargetList} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithBuildTargetList
+        && equalTo((DtoWithBuildTargetList) another);
+  }
+
+  private boolean equalTo(DtoWithBuildTargetList another) {
+    return single.equals(another.single)
+        && sameBuildFileTarget.equals(another.sameBuildFileTarget)
+        && targets.equals(another.targets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code single}, {@code sameBuildFileTarget}, {@code targets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + single.hashCode();
+    h += (h << 5) + sameBuildFileTarget.hashCode();
+    h += (h << 5) + targets.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithBuildTargetList} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithBuildTargetList")
+        .omitNullValues()
+        .add("single", single)
+        .add("sameBuildFileTarget", sameBuildFileTarget)
+        .add("targets", targets)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargetList} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithBuildTargetList instance
+   */
+  static DtoWithBuildTargetList copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargetList instance) {
+    if (instance instanceof DtoWithBuildTargetList) {
+      return (DtoWithBuildTargetList) instance;
+    }
+    return DtoWithBuildTargetList.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithBuildTargetList DtoWithBuildTargetList}.
+   * @return A new DtoWithBuildTargetList builder
+   */
+  public static DtoWithBuildTargetList.Builder builder() {
+    return new DtoWithBuildTargetList.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithBuildTargetList DtoWithBuildTargetList}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SINGLE = 0x1L;
+    private static final long INIT_BIT_SAME_BUILD_FILE_TARGET = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable BuildTarget single;
+    private @Nullable BuildTarget sameBuildFileTarget;
+    private ImmutableList.Builder<BuildTarget> targets = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithBuildTargetList} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithBuildTargetList instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargetList) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithBuildTargetList} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargetList instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSingle(instance.getSingle());
+      setSameBuildFileTarget(instance.getSameBuildFileTarget());
+      addAllTargets(instance.getTargets());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargetList#getSingle() single} attribute.
+     * @param single The value for single 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSingle(BuildTarget single) {
+      this.single = Objects.requireNonNull(single, "single");
+      initBits &= ~INIT_BIT_SINGLE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargetList#getSameBuildFileTarget() sameBuildFileTarget} attribute.
+     * @param sameBuildFileTarget The value for sameBuildFileTarget 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSameBuildFileTarget(BuildTarget sameBuildFileTarget) {
+      this.sameBuildFileTarget = Objects.requireNonNull(sameBuildFileTarget, "sameBuildFileTarget");
+      initBits &= ~INIT_BIT_SAME_BUILD_FILE_TARGET;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargetList#getTargets() targets} list.
+     * @param element A targets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTargets(BuildTarget element) {
+      this.targets.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargetList#getTargets() targets} list.
+     * @param elements An array of targets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTargets(BuildTarget... elements) {
+      this.targets.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargetList#getTargets() targets} list.
+     * @param elements An iterable of targets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTargets(Iterable<? extends BuildTarget> elements) {
+      this.targets = ImmutableList.builder();
+      return addAllTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargetList#getTargets() targets} list.
+     * @param elements An iterable of targets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTargets(Iterable<? extends BuildTarget> elements) {
+      this.targets.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DtoWithBuildTargetList DtoWithBuildTargetList}.
+     * @return An immutable instance of DtoWithBuildTargetList
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithBuildTargetList build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DtoWithBuildTargetList(single, sameBuildFileTarget, targets.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SINGLE) != 0) attributes.add("single");
+      if ((initBits & INIT_BIT_SAME_BUILD_FILE_TARGET) != 0) attributes.add("sameBuildFileTarget");
+      return "Cannot build DtoWithBuildTargetList, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,224 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargets}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithBuildTargets.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargets"})
+@Immutable
+public final class DtoWithBuildTargets
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargets {
+  private final BuildTarget target;
+  private final BuildTarget local;
+
+  private DtoWithBuildTargets(BuildTarget target, BuildTarget local) {
+    this.target = target;
+    this.local = local;
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * @return The value of the {@code local} attribute
+   */
+  @Override
+  public BuildTarget getLocal() {
+    return local;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargets#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithBuildTargets withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "target");
+    return new DtoWithBuildTargets(newValue, this.local);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargets#getLocal() local} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for local
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithBuildTargets withLocal(BuildTarget value) {
+    if (this.local == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "local");
+    return new DtoWithBuildTargets(this.target, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithBuildTargets} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithBuildTargets
+        && equalTo((DtoWithBuildTargets) another);
+  }
+
+  private boolean equalTo(DtoWithBuildTargets another) {
+    return target.equals(another.target)
+        && local.equals(another.local);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code target}, {@code local}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + target.hashCode();
+    h += (h << 5) + local.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithBuildTargets} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithBuildTargets")
+        .omitNullValues()
+        .add("target", target)
+        .add("local", local)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargets} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithBuildTargets instance
+   */
+  static DtoWithBuildTargets copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargets instance) {
+    if (instance instanceof DtoWithBuildTargets) {
+      return (DtoWithBuildTargets) instance;
+    }
+    return DtoWithBuildTargets.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithBuildTargets DtoWithBuildTargets}.
+   * @return A new DtoWithBuildTargets builder
+   */
+  public static DtoWithBuildTargets.Builder builder() {
+    return new DtoWithBuildTargets.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithBuildTargets DtoWithBuildTargets}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TARGET = 0x1L;
+    private static final long INIT_BIT_LOCAL = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable BuildTarget target;
+    private @Nullable BuildTarget local;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithBuildTargets} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithBuildTargets instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargets) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithBuildTargets} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargets instance) {
+      Objects.requireNonNull(instance, "instance");
+      setTarget(instance.getTarget());
+      setLocal(instance.getLocal());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargets#getTarget() target} attribute.
+     * @param target The value for target 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTarget(BuildTarget target) {
+      this.target = Objects.requireNonNull(target, "target");
+      initBits &= ~INIT_BIT_TARGET;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithBuildTargets#getLocal() local} attribute.
+     * @param local The value for local 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLocal(BuildTarget local) {
+      this.local = Objects.requireNonNull(local, "local");
+      initBits &= ~INIT_BIT_LOCAL;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DtoWithBuildTargets DtoWithBuildTargets}.
+     * @return An immutable instance of DtoWithBuildTargets
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithBuildTargets build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DtoWithBuildTargets(target, local);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TARGET) != 0) attributes.add("target");
+      if ((initBits & INIT_BIT_LOCAL) != 0) attributes.add("local");
+      return "Cannot build DtoWithBuildTargets, some of required attributes are not set " + attributes;
+    }
+  }
+}
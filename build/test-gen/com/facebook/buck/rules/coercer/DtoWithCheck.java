@@ -0,0 +1,188 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCheck}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithCheck.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithCheck"})
+@Immutable
+public final class DtoWithCheck
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithCheck {
+  private final String string;
+
+  private DtoWithCheck(String string) {
+    this.string = string;
+  }
+
+  /**
+   * @return The value of the {@code string} attribute
+   */
+  @Override
+  public String getString() {
+    return string;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCheck#getString() string} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for string
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithCheck withString(String value) {
+    if (this.string.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "string");
+    return validate(new DtoWithCheck(newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithCheck} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithCheck
+        && equalTo((DtoWithCheck) another);
+  }
+
+  private boolean equalTo(DtoWithCheck another) {
+    return string.equals(another.string);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code string}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + string.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithCheck} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithCheck")
+        .omitNullValues()
+        .add("string", string)
+        .toString();
+  }
+
+
+  private static DtoWithCheck validate(DtoWithCheck instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCheck} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithCheck instance
+   */
+  static DtoWithCheck copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithCheck instance) {
+    if (instance instanceof DtoWithCheck) {
+      return (DtoWithCheck) instance;
+    }
+    return DtoWithCheck.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithCheck DtoWithCheck}.
+   * @return A new DtoWithCheck builder
+   */
+  public static DtoWithCheck.Builder builder() {
+    return new DtoWithCheck.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithCheck DtoWithCheck}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_STRING = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String string;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithCheck} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithCheck instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithCheck) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithCheck} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithCheck instance) {
+      Objects.requireNonNull(instance, "instance");
+      setString(instance.getString());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCheck#getString() string} attribute.
+     * @param string The value for string 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setString(String string) {
+      this.string = Objects.requireNonNull(string, "string");
+      initBits &= ~INIT_BIT_STRING;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DtoWithCheck DtoWithCheck}.
+     * @return An immutable instance of DtoWithCheck
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithCheck build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return DtoWithCheck.validate(new DtoWithCheck(string));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_STRING) != 0) attributes.add("string");
+      return "Cannot build DtoWithCheck, some of required attributes are not set " + attributes;
+    }
+  }
+}
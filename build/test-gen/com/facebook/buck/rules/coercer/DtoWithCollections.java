@@ -0,0 +1,879 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithCollections.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections"})
+@Immutable
+public final class DtoWithCollections
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections {
+  private final ImmutableSet<String> set;
+  private final ImmutableSet<String> immutableSet;
+  private final ImmutableSortedSet<String> sortedSet;
+  private final ImmutableSortedSet<String> immutableSortedSet;
+  private final ImmutableList<String> list;
+  private final ImmutableList<String> immutableList;
+  private final ImmutableMap<String, String> map;
+  private final ImmutableMap<String, String> immutableMap;
+
+  private DtoWithCollections(
+      ImmutableSet<String> set,
+      ImmutableSet<String> immutableSet,
+      ImmutableSortedSet<String> sortedSet,
+      ImmutableSortedSet<String> immutableSortedSet,
+      ImmutableList<String> list,
+      ImmutableList<String> immutableList,
+      ImmutableMap<String, String> map,
+      ImmutableMap<String, String> immutableMap) {
+    this.set = set;
+    this.immutableSet = immutableSet;
+    this.sortedSet = sortedSet;
+    this.immutableSortedSet = immutableSortedSet;
+    this.list = list;
+    this.immutableList = immutableList;
+    this.map = map;
+    this.immutableMap = immutableMap;
+  }
+
+  /**
+   * @return The value of the {@code set} attribute
+   */
+  @Override
+  public ImmutableSet<String> getSet() {
+    return set;
+  }
+
+  /**
+   * @return The value of the {@code immutableSet} attribute
+   */
+  @Override
+  public ImmutableSet<String> getImmutableSet() {
+    return immutableSet;
+  }
+
+  /**
+   * @return The value of the {@code sortedSet} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getSortedSet() {
+    return sortedSet;
+  }
+
+  /**
+   * @return The value of the {@code immutableSortedSet} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getImmutableSortedSet() {
+    return immutableSortedSet;
+  }
+
+  /**
+   * @return The value of the {@code list} attribute
+   */
+  @Override
+  public ImmutableList<String> getList() {
+    return list;
+  }
+
+  /**
+   * @return The value of the {@code immutableList} attribute
+   */
+  @Override
+  public ImmutableList<String> getImmutableList() {
+    return immutableList;
+  }
+
+  /**
+   * @return The value of the {@code map} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getMap() {
+    return map;
+  }
+
+  /**
+   * @return The value of the {@code immutableMap} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getImmutableMap() {
+    return immutableMap;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getSet() set}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithCollections withSet(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithCollections(
+        newValue,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getSet() set}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of set elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithCollections withSet(Iterable<String> elements) {
+    if (this.set == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithCollections(
+        newValue,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableSet() immutableSet}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithCollections withImmutableSet(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithCollections(
+        this.set,
+        newValue,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableSet() immutableSet}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of immutableSet elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithCollections withImmutableSet(Iterable<String> elements) {
+    if (this.immutableSet == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithCollections(
+        this.set,
+        newValue,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getSortedSet() sortedSet}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithCollections withSortedSet(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new DtoWithCollections(
+        this.set,
+        this.immutableSet,
+        newValue,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getSortedSet() sortedSet}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of sortedSet elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithCollections withSortedSet(Iterable<String> elements) {
+    if (this.sortedSet == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new DtoWithCollections(
+        this.set,
+        this.immutableSet,
+        newValue,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableSortedSet() immutableSortedSet}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithCollections withImmutableSortedSet(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new DtoWithCollections(
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        newValue,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableSortedSet() immutableSortedSet}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of immutableSortedSet elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithCollections withImmutableSortedSet(Iterable<String> elements) {
+    if (this.immutableSortedSet == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new DtoWithCollections(
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        newValue,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getList() list}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithCollections withList(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new DtoWithCollections(
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        newValue,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getList() list}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of list elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithCollections withList(Iterable<String> elements) {
+    if (this.list == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new DtoWithCollections(
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        newValue,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableList() immutableList}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithCollections withImmutableList(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new DtoWithCollections(
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        newValue,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableList() immutableList}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of immutableList elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithCollections withImmutableList(Iterable<String> elements) {
+    if (this.immutableList == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new DtoWithCollections(
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        newValue,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getMap() map} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the map map
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithCollections withMap(Map<String, ? extends String> entries) {
+    if (this.map == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new DtoWithCollections(
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        newValue,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableMap() immutableMap} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the immutableMap map
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithCollections withImmutableMap(Map<String, ? extends String> entries) {
+    if (this.immutableMap == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new DtoWithCollections(
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        this.map,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithCollections} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithCollections
+        && equalTo((DtoWithCollections) another);
+  }
+
+  private boolean equalTo(DtoWithCollections another) {
+    return set.equals(another.set)
+        && immutableSet.equals(another.immutableSet)
+        && sortedSet.equals(another.sortedSet)
+        && immutableSortedSet.equals(another.immutableSortedSet)
+        && list.equals(another.list)
+        && immutableList.equals(another.immutableList)
+        && map.equals(another.map)
+        && immutableMap.equals(another.immutableMap);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code set}, {@code immutableSet}, {@code sortedSet}, {@code immutableSortedSet}, {@code list}, {@code immutableList}, {@code map}, {@code immutableMap}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + set.hashCode();
+    h += (h << 5) + immutableSet.hashCode();
+    h += (h << 5) + sortedSet.hashCode();
+    h += (h << 5) + immutableSortedSet.hashCode();
+    h += (h << 5) + list.hashCode();
+    h += (h << 5) + immutableList.hashCode();
+    h += (h << 5) + map.hashCode();
+    h += (h << 5) + immutableMap.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithCollections} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithCollections")
+        .omitNullValues()
+        .add("set", set)
+        .add("immutableSet", immutableSet)
+        .add("sortedSet", sortedSet)
+        .add("immutableSortedSet", immutableSortedSet)
+        .add("list", list)
+        .add("immutableList", immutableList)
+        .add("map", map)
+        .add("immutableMap", immutableMap)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithCollections instance
+   */
+  static DtoWithCollections copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections instance) {
+    if (instance instanceof DtoWithCollections) {
+      return (DtoWithCollections) instance;
+    }
+    return DtoWithCollections.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithCollections DtoWithCollections}.
+   * @return A new DtoWithCollections builder
+   */
+  public static DtoWithCollections.Builder builder() {
+    return new DtoWithCollections.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithCollections DtoWithCollections}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSet.Builder<String> set = ImmutableSet.builder();
+    private ImmutableSet.Builder<String> immutableSet = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> sortedSet = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<String> immutableSortedSet = ImmutableSortedSet.naturalOrder();
+    private ImmutableList.Builder<String> list = ImmutableList.builder();
+    private ImmutableList.Builder<String> immutableList = ImmutableList.builder();
+    private ImmutableMap.Builder<String, String> map = ImmutableMap.builder();
+    private ImmutableMap.Builder<String, String> immutableMap = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithCollections} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithCollections instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithCollections} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllSet(instance.getSet());
+      addAllImmutableSet(instance.getImmutableSet());
+      addAllSortedSet(instance.getSortedSet());
+      addAllImmutableSortedSet(instance.getImmutableSortedSet());
+      addAllList(instance.getList());
+      addAllImmutableList(instance.getImmutableList());
+      putAllMap(instance.getMap());
+      putAllImmutableMap(instance.getImmutableMap());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getSet() set} set.
+     * @param element A set element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSet(String element) {
+      this.set.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getSet() set} set.
+     * @param elements An array of set elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSet(String... elements) {
+      this.set.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getSet() set} set.
+     * @param elements An iterable of set elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSet(Iterable<String> elements) {
+      this.set = ImmutableSet.builder();
+      return addAllSet(elements);
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getSet() set} set.
+     * @param elements An iterable of set elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSet(Iterable<String> elements) {
+      this.set.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableSet() immutableSet} set.
+     * @param element A immutableSet element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addImmutableSet(String element) {
+      this.immutableSet.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableSet() immutableSet} set.
+     * @param elements An array of immutableSet elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addImmutableSet(String... elements) {
+      this.immutableSet.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableSet() immutableSet} set.
+     * @param elements An iterable of immutableSet elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setImmutableSet(Iterable<String> elements) {
+      this.immutableSet = ImmutableSet.builder();
+      return addAllImmutableSet(elements);
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableSet() immutableSet} set.
+     * @param elements An iterable of immutableSet elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllImmutableSet(Iterable<String> elements) {
+      this.immutableSet.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getSortedSet() sortedSet} sortedSet.
+     * @param element A sortedSet element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSortedSet(String element) {
+      this.sortedSet.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getSortedSet() sortedSet} sortedSet.
+     * @param elements An array of sortedSet elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSortedSet(String... elements) {
+      this.sortedSet.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getSortedSet() sortedSet} sortedSet.
+     * @param elements An iterable of sortedSet elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSortedSet(Iterable<String> elements) {
+      this.sortedSet = ImmutableSortedSet.naturalOrder();
+      return addAllSortedSet(elements);
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getSortedSet() sortedSet} sortedSet.
+     * @param elements An iterable of sortedSet elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSortedSet(Iterable<String> elements) {
+      this.sortedSet.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableSortedSet() immutableSortedSet} sortedSet.
+     * @param element A immutableSortedSet element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addImmutableSortedSet(String element) {
+      this.immutableSortedSet.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableSortedSet() immutableSortedSet} sortedSet.
+     * @param elements An array of immutableSortedSet elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addImmutableSortedSet(String... elements) {
+      this.immutableSortedSet.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableSortedSet() immutableSortedSet} sortedSet.
+     * @param elements An iterable of immutableSortedSet elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setImmutableSortedSet(Iterable<String> elements) {
+      this.immutableSortedSet = ImmutableSortedSet.naturalOrder();
+      return addAllImmutableSortedSet(elements);
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableSortedSet() immutableSortedSet} sortedSet.
+     * @param elements An iterable of immutableSortedSet elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllImmutableSortedSet(Iterable<String> elements) {
+      this.immutableSortedSet.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getList() list} list.
+     * @param element A list element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addList(String element) {
+      this.list.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getList() list} list.
+     * @param elements An array of list elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addList(String... elements) {
+      this.list.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getList() list} list.
+     * @param elements An iterable of list elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setList(Iterable<String> elements) {
+      this.list = ImmutableList.builder();
+      return addAllList(elements);
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getList() list} list.
+     * @param elements An iterable of list elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllList(Iterable<String> elements) {
+      this.list.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableList() immutableList} list.
+     * @param element A immutableList element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addImmutableList(String element) {
+      this.immutableList.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableList() immutableList} list.
+     * @param elements An array of immutableList elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addImmutableList(String... elements) {
+      this.immutableList.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableList() immutableList} list.
+     * @param elements An iterable of immutableList elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setImmutableList(Iterable<String> elements) {
+      this.immutableList = ImmutableList.builder();
+      return addAllImmutableList(elements);
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableList() immutableList} list.
+     * @param elements An iterable of immutableList elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllImmutableList(Iterable<String> elements) {
+      this.immutableList.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getMap() map} map.
+     * @param key The key in the map map
+     * @param value The associated value in the map map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putMap(String key, String value) {
+      this.map.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getMap() map} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putMap(Map.Entry<String, ? extends String> entry) {
+      this.map.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getMap() map} map. Nulls are not permitted
+     * @param map The entries that will be added to the map map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMap(Map<String, ? extends String> map) {
+      this.map = ImmutableMap.builder();
+      return putAllMap(map);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getMap() map} map. Nulls are not permitted
+     * @param map The entries that will be added to the map map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllMap(Map<String, ? extends String> map) {
+      this.map.putAll(map);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableMap() immutableMap} map.
+     * @param key The key in the immutableMap map
+     * @param value The associated value in the immutableMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putImmutableMap(String key, String value) {
+      this.immutableMap.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableMap() immutableMap} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putImmutableMap(Map.Entry<String, ? extends String> entry) {
+      this.immutableMap.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableMap() immutableMap} map. Nulls are not permitted
+     * @param immutableMap The entries that will be added to the immutableMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setImmutableMap(Map<String, ? extends String> immutableMap) {
+      this.immutableMap = ImmutableMap.builder();
+      return putAllImmutableMap(immutableMap);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithCollections#getImmutableMap() immutableMap} map. Nulls are not permitted
+     * @param immutableMap The entries that will be added to the immutableMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllImmutableMap(Map<String, ? extends String> immutableMap) {
+      this.immutableMap.putAll(immutableMap);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DtoWithCollections DtoWithCollections}.
+     * @return An immutable instance of DtoWithCollections
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithCollections build() {
+      return new DtoWithCollections(
+          set.build(),
+          immutableSet.build(),
+          sortedSet.build(),
+          immutableSortedSet.build(),
+          list.build(),
+          immutableList.build(),
+          map.build(),
+          immutableMap.build());
+    }
+  }
+}
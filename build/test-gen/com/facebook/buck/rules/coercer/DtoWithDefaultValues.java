@@ -0,0 +1,465 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithDefaultValues.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues"})
+@Immutable
+public final class DtoWithDefaultValues
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues {
+  private final String something;
+  private final ImmutableList<String> things;
+  private final int more;
+  private final Boolean beGood;
+
+  private DtoWithDefaultValues(DtoWithDefaultValues.Builder builder) {
+    if (builder.something != null) {
+      initShim.setSomething(builder.something);
+    }
+    if (builder.thingsIsSet()) {
+      initShim.setThings(builder.things.build());
+    }
+    if (builder.moreIsSet()) {
+      initShim.setMore(builder.more);
+    }
+    if (builder.beGood != null) {
+      initShim.setBeGood(builder.beGood);
+    }
+    this.something = initShim.getSomething();
+    this.things = initShim.getThings();
+    this.more = initShim.getMore();
+    this.beGood = initShim.getBeGood();
+    this.initShim = null;
+  }
+
+  private DtoWithDefaultValues(
+      String something,
+      ImmutableList<String> things,
+      int more,
+      Boolean beGood) {
+    this.something = something;
+    this.things = things;
+    this.more = more;
+    this.beGood = beGood;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private String something;
+    private int somethingBuildStage;
+
+    String getSomething() {
+      if (somethingBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (somethingBuildStage == STAGE_UNINITIALIZED) {
+        somethingBuildStage = STAGE_INITIALIZING;
+        this.something = Objects.requireNonNull(DtoWithDefaultValues.super.getSomething(), "something");
+        somethingBuildStage = STAGE_INITIALIZED;
+      }
+      return this.something;
+    }
+
+    void setSomething(String something) {
+      this.something = something;
+      somethingBuildStage = STAGE_INITIALIZED;
+    }
+    private ImmutableList<String> things;
+    private int thingsBuildStage;
+
+    ImmutableList<String> getThings() {
+      if (thingsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (thingsBuildStage == STAGE_UNINITIALIZED) {
+        thingsBuildStage = STAGE_INITIALIZING;
+        this.things = ImmutableList.copyOf(DtoWithDefaultValues.super.getThings());
+        thingsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.things;
+    }
+
+    void setThings(ImmutableList<String> things) {
+      this.things = things;
+      thingsBuildStage = STAGE_INITIALIZED;
+    }
+    private int more;
+    private int moreBuildStage;
+
+    int getMore() {
+      if (moreBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (moreBuildStage == STAGE_UNINITIALIZED) {
+        moreBuildStage = STAGE_INITIALIZING;
+        this.more = DtoWithDefaultValues.super.getMore();
+        moreBuildStage = STAGE_INITIALIZED;
+      }
+      return this.more;
+    }
+
+    void setMore(int more) {
+      this.more = more;
+      moreBuildStage = STAGE_INITIALIZED;
+    }
+    private Boolean beGood;
+    private int beGoodBuildStage;
+
+    Boolean getBeGood() {
+      if (beGoodBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (beGoodBuildStage == STAGE_UNINITIALIZED) {
+        beGoodBuildStage = STAGE_INITIALIZING;
+        this.beGood = Objects.requireNonNull(DtoWithDefaultValues.super.getBeGood(), "beGood");
+        beGoodBuildStage = STAGE_INITIALIZED;
+      }
+      return this.beGood;
+    }
+
+    void setBeGood(Boolean beGood) {
+      this.beGood = beGood;
+      beGoodBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (somethingBuildStage == STAGE_INITIALIZING) attributes.add("something");
+      if (thingsBuildStage == STAGE_INITIALIZING) attributes.add("things");
+      if (moreBuildStage == STAGE_INITIALIZING) attributes.add("more");
+      if (beGoodBuildStage == STAGE_INITIALIZING) attributes.add("beGood");
+      return "Cannot build DtoWithDefaultValues, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code something} attribute
+   */
+  @Override
+  public String getSomething() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSomething()
+        : this.something;
+  }
+
+  /**
+   * @return The value of the {@code things} attribute
+   */
+  @Override
+  public ImmutableList<String> getThings() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getThings()
+        : this.things;
+  }
+
+  /**
+   * @return The value of the {@code more} attribute
+   */
+  @Override
+  public int getMore() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMore()
+        : this.more;
+  }
+
+  /**
+   * @return The value of the {@code beGood} attribute
+   */
+  @Override
+  public Boolean getBeGood() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBeGood()
+        : this.beGood;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues#getSomething() something} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for something
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithDefaultValues withSomething(String value) {
+    if (this.something.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "something");
+    return new DtoWithDefaultValues(newValue, this.things, this.more, this.beGood);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues#getThings() things}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithDefaultValues withThings(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new DtoWithDefaultValues(this.something, newValue, this.more, this.beGood);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues#getThings() things}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of things elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithDefaultValues withThings(Iterable<String> elements) {
+    if (this.things == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new DtoWithDefaultValues(this.something, newValue, this.more, this.beGood);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues#getMore() more} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for more
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithDefaultValues withMore(int value) {
+    if (this.more == value) return this;
+    return new DtoWithDefaultValues(this.something, this.things, value, this.beGood);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues#getBeGood() beGood} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for beGood
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithDefaultValues withBeGood(Boolean value) {
+    if (this.beGood.equals(value)) return this;
+    Boolean newValue = Objects.requireNonNull(value, "beGood");
+    return new DtoWithDefaultValues(this.something, this.things, this.more, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithDefaultValues} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithDefaultValues
+        && equalTo((DtoWithDefaultValues) another);
+  }
+
+  private boolean equalTo(DtoWithDefaultValues another) {
+    return something.equals(another.something)
+        && things.equals(another.things)
+        && more == another.more
+        && beGood.equals(another.beGood);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code something}, {@code things}, {@code more}, {@code beGood}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + something.hashCode();
+    h += (h << 5) + things.hashCode();
+    h += (h << 5) + more;
+    h += (h << 5) + beGood.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithDefaultValues} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithDefaultValues")
+        .omitNullValues()
+        .add("something", something)
+        .add("things", things)
+        .add("more", more)
+        .add("beGood", beGood)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithDefaultValues instance
+   */
+  static DtoWithDefaultValues copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues instance) {
+    if (instance instanceof DtoWithDefaultValues) {
+      return (DtoWithDefaultValues) instance;
+    }
+    return DtoWithDefaultValues.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithDefaultValues DtoWithDefaultValues}.
+   * @return A new DtoWithDefaultValues builder
+   */
+  public static DtoWithDefaultValues.Builder builder() {
+    return new DtoWithDefaultValues.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithDefaultValues DtoWithDefaultValues}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long OPT_BIT_THINGS = 0x1L;
+    private static final long OPT_BIT_MORE = 0x2L;
+    private long optBits;
+
+    private @Nullable String something;
+    private ImmutableList.Builder<String> things = ImmutableList.builder();
+    private int more;
+    private @Nullable Boolean beGood;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithDefaultValues} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithDefaultValues instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithDefaultValues} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSomething(instance.getSomething());
+      addAllThings(instance.getThings());
+      setMore(instance.getMore());
+      setBeGood(instance.getBeGood());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues#getSomething() something} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues#getSomething() something}.</em>
+     * @param something The value for something 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSomething(String something) {
+      this.something = Objects.requireNonNull(something, "something");
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues#getThings() things} list.
+     * @param element A things element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addThings(String element) {
+      this.things.add(element);
+      optBits |= OPT_BIT_THINGS;
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues#getThings() things} list.
+     * @param elements An array of things elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addThings(String... elements) {
+      this.things.add(elements);
+      optBits |= OPT_BIT_THINGS;
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues#getThings() things} list.
+     * @param elements An iterable of things elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setThings(Iterable<String> elements) {
+      this.things = ImmutableList.builder();
+      return addAllThings(elements);
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues#getThings() things} list.
+     * @param elements An iterable of things elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllThings(Iterable<String> elements) {
+      this.things.addAll(elements);
+      optBits |= OPT_BIT_THINGS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues#getMore() more} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues#getMore() more}.</em>
+     * @param more The value for more 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMore(int more) {
+      this.more = more;
+      optBits |= OPT_BIT_MORE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues#getBeGood() beGood} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDefaultValues#getBeGood() beGood}.</em>
+     * @param beGood The value for beGood 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBeGood(Boolean beGood) {
+      this.beGood = Objects.requireNonNull(beGood, "beGood");
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DtoWithDefaultValues DtoWithDefaultValues}.
+     * @return An immutable instance of DtoWithDefaultValues
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithDefaultValues build() {
+      return new DtoWithDefaultValues(this);
+    }
+
+    private boolean thingsIsSet() {
+      return (optBits & OPT_BIT_THINGS) != 0;
+    }
+
+    private boolean moreIsSet() {
+      return (optBits & OPT_BIT_MORE) != 0;
+    }
+  }
+}
@@ -0,0 +1,290 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithDepsAndNotDeps.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps"})
+@Immutable
+public final class DtoWithDepsAndNotDeps
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps {
+  private final ImmutableSet<BuildTarget> deps;
+  private final ImmutableSet<BuildTarget> notDeps;
+
+  private DtoWithDepsAndNotDeps(
+      ImmutableSet<BuildTarget> deps,
+      ImmutableSet<BuildTarget> notDeps) {
+    this.deps = deps;
+    this.notDeps = notDeps;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code notDeps} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getNotDeps() {
+    return notDeps;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithDepsAndNotDeps withDeps(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithDepsAndNotDeps(newValue, this.notDeps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithDepsAndNotDeps withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithDepsAndNotDeps(newValue, this.notDeps);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps#getNotDeps() notDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithDepsAndNotDeps withNotDeps(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithDepsAndNotDeps(this.deps, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps#getNotDeps() notDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of notDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithDepsAndNotDeps withNotDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.notDeps == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithDepsAndNotDeps(this.deps, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithDepsAndNotDeps} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithDepsAndNotDeps
+        && equalTo((DtoWithDepsAndNotDeps) another);
+  }
+
+  private boolean equalTo(DtoWithDepsAndNotDeps another) {
+    return deps.equals(another.deps)
+        && notDeps.equals(another.notDeps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code deps}, {@code notDeps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + notDeps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithDepsAndNotDeps} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithDepsAndNotDeps")
+        .omitNullValues()
+        .add("deps", deps)
+        .add("notDeps", notDeps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithDepsAndNotDeps instance
+   */
+  static DtoWithDepsAndNotDeps copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps instance) {
+    if (instance instanceof DtoWithDepsAndNotDeps) {
+      return (DtoWithDepsAndNotDeps) instance;
+    }
+    return DtoWithDepsAndNotDeps.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithDepsAndNotDeps DtoWithDepsAndNotDeps}.
+   * @return A new DtoWithDepsAndNotDeps builder
+   */
+  public static DtoWithDepsAndNotDeps.Builder builder() {
+    return new DtoWithDepsAndNotDeps.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithDepsAndNotDeps DtoWithDepsAndNotDeps}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSet.Builder<BuildTarget> deps = ImmutableSet.builder();
+    private ImmutableSet.Builder<BuildTarget> notDeps = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithDepsAndNotDeps} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithDepsAndNotDeps instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithDepsAndNotDeps} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllDeps(instance.getDeps());
+      addAllNotDeps(instance.getNotDeps());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps#getDeps() deps} set.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps#getDeps() deps} set.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps#getDeps() deps} set.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSet.builder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps#getDeps() deps} set.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps#getNotDeps() notDeps} set.
+     * @param element A notDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addNotDeps(BuildTarget element) {
+      this.notDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps#getNotDeps() notDeps} set.
+     * @param elements An array of notDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addNotDeps(BuildTarget... elements) {
+      this.notDeps.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps#getNotDeps() notDeps} set.
+     * @param elements An iterable of notDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNotDeps(Iterable<? extends BuildTarget> elements) {
+      this.notDeps = ImmutableSet.builder();
+      return addAllNotDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDepsAndNotDeps#getNotDeps() notDeps} set.
+     * @param elements An iterable of notDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllNotDeps(Iterable<? extends BuildTarget> elements) {
+      this.notDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DtoWithDepsAndNotDeps DtoWithDepsAndNotDeps}.
+     * @return An immutable instance of DtoWithDepsAndNotDeps
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithDepsAndNotDeps build() {
+      return new DtoWithDepsAndNotDeps(deps.build(), notDeps.build());
+    }
+  }
+}
@@ -0,0 +1,195 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDerivedAndOrdinaryMethods}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithDerivedAndOrdinaryMethods.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithDerivedAndOrdinaryMethods"})
+@Immutable
+public final class DtoWithDerivedAndOrdinaryMethods
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithDerivedAndOrdinaryMethods {
+  private final String string;
+  private final String upper;
+
+  private DtoWithDerivedAndOrdinaryMethods(String string) {
+    this.string = string;
+    this.upper = Objects.requireNonNull(super.getUpper(), "upper");
+  }
+
+  /**
+   * @return The value of the {@code string} attribute
+   */
+  @Override
+  public String getString() {
+    return string;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code upper} attribute
+   */
+  @Override
+  public String getUpper() {
+    return upper;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDerivedAndOrdinaryMethods#getString() string} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for string
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithDerivedAndOrdinaryMethods withString(String value) {
+    if (this.string.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "string");
+    return new DtoWithDerivedAndOrdinaryMethods(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithDerivedAndOrdinaryMethods} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithDerivedAndOrdinaryMethods
+        && equalTo((DtoWithDerivedAndOrdinaryMethods) another);
+  }
+
+  private boolean equalTo(DtoWithDerivedAndOrdinaryMethods another) {
+    return string.equals(another.string)
+        && upper.equals(another.upper);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code string}, {@code upper}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + string.hashCode();
+    h += (h << 5) + upper.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithDerivedAndOrdinaryMethods} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithDerivedAndOrdinaryMethods")
+        .omitNullValues()
+        .add("string", string)
+        .add("upper", upper)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDerivedAndOrdinaryMethods} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithDerivedAndOrdinaryMethods instance
+   */
+  static DtoWithDerivedAndOrdinaryMethods copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithDerivedAndOrdinaryMethods instance) {
+    if (instance instanceof DtoWithDerivedAndOrdinaryMethods) {
+      return (DtoWithDerivedAndOrdinaryMethods) instance;
+    }
+    return DtoWithDerivedAndOrdinaryMethods.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithDerivedAndOrdinaryMethods DtoWithDerivedAndOrdinaryMethods}.
+   * @return A new DtoWithDerivedAndOrdinaryMethods builder
+   */
+  public static DtoWithDerivedAndOrdinaryMethods.Builder builder() {
+    return new DtoWithDerivedAndOrdinaryMethods.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithDerivedAndOrdinaryMethods DtoWithDerivedAndOrdinaryMethods}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_STRING = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String string;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithDerivedAndOrdinaryMethods} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithDerivedAndOrdinaryMethods instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithDerivedAndOrdinaryMethods) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithDerivedAndOrdinaryMethods} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithDerivedAndOrdinaryMethods instance) {
+      Objects.requireNonNull(instance, "instance");
+      setString(instance.getString());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithDerivedAndOrdinaryMethods#getString() string} attribute.
+     * @param string The value for string 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setString(String string) {
+      this.string = Objects.requireNonNull(string, "string");
+      initBits &= ~INIT_BIT_STRING;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DtoWithDerivedAndOrdinaryMethods DtoWithDerivedAndOrdinaryMethods}.
+     * @return An immutable instance of DtoWithDerivedAndOrdinaryMethods
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithDerivedAndOrdinaryMethods build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DtoWithDerivedAndOrdinaryMethods(string);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_STRING) != 0) attributes.add("string");
+      return "Cannot build DtoWithDerivedAndOrdinaryMethods, some of required attributes are not set " + attributes;
+    }
+  }
+}
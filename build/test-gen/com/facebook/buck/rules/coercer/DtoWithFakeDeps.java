@@ -0,0 +1,210 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithFakeDeps}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithFakeDeps.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithFakeDeps"})
+@Immutable
+public final class DtoWithFakeDeps
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithFakeDeps {
+  private final ImmutableSet<BuildTarget> deps;
+
+  private DtoWithFakeDeps(ImmutableSet<BuildTarget> deps) {
+    this.deps = deps;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithFakeDeps#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithFakeDeps withDeps(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithFakeDeps(newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithFakeDeps#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithFakeDeps withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithFakeDeps(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithFakeDeps} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithFakeDeps
+        && equalTo((DtoWithFakeDeps) another);
+  }
+
+  private boolean equalTo(DtoWithFakeDeps another) {
+    return deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithFakeDeps} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithFakeDeps")
+        .omitNullValues()
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithFakeDeps} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithFakeDeps instance
+   */
+  static DtoWithFakeDeps copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithFakeDeps instance) {
+    if (instance instanceof DtoWithFakeDeps) {
+      return (DtoWithFakeDeps) instance;
+    }
+    return DtoWithFakeDeps.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithFakeDeps DtoWithFakeDeps}.
+   * @return A new DtoWithFakeDeps builder
+   */
+  public static DtoWithFakeDeps.Builder builder() {
+    return new DtoWithFakeDeps.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithFakeDeps DtoWithFakeDeps}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSet.Builder<BuildTarget> deps = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithFakeDeps} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithFakeDeps instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithFakeDeps) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithFakeDeps} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithFakeDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllDeps(instance.getDeps());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithFakeDeps#getDeps() deps} set.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithFakeDeps#getDeps() deps} set.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithFakeDeps#getDeps() deps} set.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSet.builder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithFakeDeps#getDeps() deps} set.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DtoWithFakeDeps DtoWithFakeDeps}.
+     * @return An immutable instance of DtoWithFakeDeps
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithFakeDeps build() {
+      return new DtoWithFakeDeps(deps.build());
+    }
+  }
+}
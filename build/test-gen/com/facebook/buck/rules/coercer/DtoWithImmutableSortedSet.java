@@ -0,0 +1,184 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithImmutableSortedSet}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithImmutableSortedSet.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithImmutableSortedSet"})
+@Immutable
+public final class DtoWithImmutableSortedSet
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithImmutableSortedSet {
+  private final ImmutableSortedSet<BuildTarget> stuff;
+
+  private DtoWithImmutableSortedSet(ImmutableSortedSet<BuildTarget> stuff) {
+    this.stuff = stuff;
+  }
+
+  /**
+   * @return The value of the {@code stuff} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getStuff() {
+    return stuff;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithImmutableSortedSet#getStuff() stuff} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for stuff
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithImmutableSortedSet withStuff(ImmutableSortedSet<BuildTarget> value) {
+    if (this.stuff == value) return this;
+    ImmutableSortedSet<BuildTarget> newValue = Objects.requireNonNull(value, "stuff");
+    return new DtoWithImmutableSortedSet(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithImmutableSortedSet} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithImmutableSortedSet
+        && equalTo((DtoWithImmutableSortedSet) another);
+  }
+
+  private boolean equalTo(DtoWithImmutableSortedSet another) {
+    return stuff.equals(another.stuff);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code stuff}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + stuff.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithImmutableSortedSet} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithImmutableSortedSet")
+        .omitNullValues()
+        .add("stuff", stuff)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithImmutableSortedSet} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithImmutableSortedSet instance
+   */
+  static DtoWithImmutableSortedSet copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithImmutableSortedSet instance) {
+    if (instance instanceof DtoWithImmutableSortedSet) {
+      return (DtoWithImmutableSortedSet) instance;
+    }
+    return DtoWithImmutableSortedSet.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithImmutableSortedSet DtoWithImmutableSortedSet}.
+   * @return A new DtoWithImmutableSortedSet builder
+   */
+  public static DtoWithImmutableSortedSet.Builder builder() {
+    return new DtoWithImmutableSortedSet.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithImmutableSortedSet DtoWithImmutableSortedSet}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_STUFF = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable ImmutableSortedSet<BuildTarget> stuff;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithImmutableSortedSet} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithImmutableSortedSet instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithImmutableSortedSet) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithImmutableSortedSet} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithImmutableSortedSet instance) {
+      Objects.requireNonNull(instance, "instance");
+      setStuff(instance.getStuff());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithImmutableSortedSet#getStuff() stuff} attribute.
+     * @param stuff The value for stuff 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStuff(ImmutableSortedSet<BuildTarget> stuff) {
+      this.stuff = Objects.requireNonNull(stuff, "stuff");
+      initBits &= ~INIT_BIT_STUFF;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DtoWithImmutableSortedSet DtoWithImmutableSortedSet}.
+     * @return An immutable instance of DtoWithImmutableSortedSet
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithImmutableSortedSet build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DtoWithImmutableSortedSet(stuff);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_STUFF) != 0) attributes.add("stuff");
+      return "Cannot build DtoWithImmutableSortedSet, some of required attributes are not set " + attributes;
+    }
+  }
+}
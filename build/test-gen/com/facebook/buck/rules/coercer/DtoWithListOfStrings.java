@@ -0,0 +1,209 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithListOfStrings}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithListOfStrings.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithListOfStrings"})
+@Immutable
+public final class DtoWithListOfStrings
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithListOfStrings {
+  private final ImmutableList<String> list;
+
+  private DtoWithListOfStrings(ImmutableList<String> list) {
+    this.list = list;
+  }
+
+  /**
+   * @return The value of the {@code list} attribute
+   */
+  @Override
+  public ImmutableList<String> getList() {
+    return list;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithListOfStrings#getList() list}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithListOfStrings withList(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new DtoWithListOfStrings(newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithListOfStrings#getList() list}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of list elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithListOfStrings withList(Iterable<String> elements) {
+    if (this.list == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new DtoWithListOfStrings(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithListOfStrings} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithListOfStrings
+        && equalTo((DtoWithListOfStrings) another);
+  }
+
+  private boolean equalTo(DtoWithListOfStrings another) {
+    return list.equals(another.list);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code list}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + list.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithListOfStrings} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithListOfStrings")
+        .omitNullValues()
+        .add("list", list)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithListOfStrings} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithListOfStrings instance
+   */
+  static DtoWithListOfStrings copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithListOfStrings instance) {
+    if (instance instanceof DtoWithListOfStrings) {
+      return (DtoWithListOfStrings) instance;
+    }
+    return DtoWithListOfStrings.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithListOfStrings DtoWithListOfStrings}.
+   * @return A new DtoWithListOfStrings builder
+   */
+  public static DtoWithListOfStrings.Builder builder() {
+    return new DtoWithListOfStrings.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithListOfStrings DtoWithListOfStrings}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableList.Builder<String> list = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithListOfStrings} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithListOfStrings instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithListOfStrings) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithListOfStrings} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithListOfStrings instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllList(instance.getList());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithListOfStrings#getList() list} list.
+     * @param element A list element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addList(String element) {
+      this.list.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithListOfStrings#getList() list} list.
+     * @param elements An array of list elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addList(String... elements) {
+      this.list.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithListOfStrings#getList() list} list.
+     * @param elements An iterable of list elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setList(Iterable<String> elements) {
+      this.list = ImmutableList.builder();
+      return addAllList(elements);
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithListOfStrings#getList() list} list.
+     * @param elements An iterable of list elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllList(Iterable<String> elements) {
+      this.list.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DtoWithListOfStrings DtoWithListOfStrings}.
+     * @return An immutable instance of DtoWithListOfStrings
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithListOfStrings build() {
+      return new DtoWithListOfStrings(list.build());
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithLong}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithLong.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithLong"})
+@Immutable
+public final class DtoWithLong
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithLong {
+  private final long number;
+
+  private DtoWithLong(long number) {
+    this.number = number;
+  }
+
+  /**
+   * @return The value of the {@code number} attribute
+   */
+  @Override
+  public long getNumber() {
+    return number;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithLong#getNumber() number} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for number
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithLong withNumber(long value) {
+    if (this.number == value) return this;
+    return new DtoWithLong(value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithLong} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithLong
+        && equalTo((DtoWithLong) another);
+  }
+
+  private boolean equalTo(DtoWithLong another) {
+    return number == another.number;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code number}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Longs.hashCode(number);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithLong} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithLong")
+        .omitNullValues()
+        .add("number", number)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithLong} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithLong instance
+   */
+  static DtoWithLong copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithLong instance) {
+    if (instance instanceof DtoWithLong) {
+      return (DtoWithLong) instance;
+    }
+    return DtoWithLong.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithLong DtoWithLong}.
+   * @return A new DtoWithLong builder
+   */
+  public static DtoWithLong.Builder builder() {
+    return new DtoWithLong.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithLong DtoWithLong}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NUMBER = 0x1L;
+    private long initBits = 0x1L;
+
+    private long number;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithLong} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithLong instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithLong) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithLong} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithLong instance) {
+      Objects.requireNonNull(instance, "instance");
+      setNumber(instance.getNumber());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithLong#getNumber() number} attribute.
+     * @param number The value for number 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNumber(long number) {
+      this.number = number;
+      initBits &= ~INIT_BIT_NUMBER;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DtoWithLong DtoWithLong}.
+     * @return An immutable instance of DtoWithLong
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithLong build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DtoWithLong(number);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NUMBER) != 0) attributes.add("number");
+      return "Cannot build DtoWithLong, some of required attributes are not set " + attributes;
+    }
+  }
+}
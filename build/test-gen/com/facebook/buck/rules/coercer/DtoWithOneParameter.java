@@ -0,0 +1,182 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link BuilderParamInfoTest.AbstractDtoWithOneParameter}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithOneParameter.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuilderParamInfoTest.AbstractDtoWithOneParameter"})
+@Immutable
+public final class DtoWithOneParameter
+    extends BuilderParamInfoTest.AbstractDtoWithOneParameter {
+  private final String someString;
+
+  private DtoWithOneParameter(String someString) {
+    this.someString = someString;
+  }
+
+  /**
+   * @return The value of the {@code someString} attribute
+   */
+  @Override
+  public String getSomeString() {
+    return someString;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuilderParamInfoTest.AbstractDtoWithOneParameter#getSomeString() someString} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for someString
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithOneParameter withSomeString(String value) {
+    if (this.someString.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "someString");
+    return new DtoWithOneParameter(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithOneParameter} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithOneParameter
+        && equalTo((DtoWithOneParameter) another);
+  }
+
+  private boolean equalTo(DtoWithOneParameter another) {
+    return someString.equals(another.someString);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code someString}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + someString.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithOneParameter} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithOneParameter")
+        .omitNullValues()
+        .add("someString", someString)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link BuilderParamInfoTest.AbstractDtoWithOneParameter} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithOneParameter instance
+   */
+  static DtoWithOneParameter copyOf(BuilderParamInfoTest.AbstractDtoWithOneParameter instance) {
+    if (instance instanceof DtoWithOneParameter) {
+      return (DtoWithOneParameter) instance;
+    }
+    return DtoWithOneParameter.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithOneParameter DtoWithOneParameter}.
+   * @return A new DtoWithOneParameter builder
+   */
+  public static DtoWithOneParameter.Builder builder() {
+    return new DtoWithOneParameter.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithOneParameter DtoWithOneParameter}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SOME_STRING = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String someString;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithOneParameter} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithOneParameter instance) {
+      return from((BuilderParamInfoTest.AbstractDtoWithOneParameter) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithOneParameter} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(BuilderParamInfoTest.AbstractDtoWithOneParameter instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSomeString(instance.getSomeString());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuilderParamInfoTest.AbstractDtoWithOneParameter#getSomeString() someString} attribute.
+     * @param someString The value for someString 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSomeString(String someString) {
+      this.someString = Objects.requireNonNull(someString, "someString");
+      initBits &= ~INIT_BIT_SOME_STRING;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DtoWithOneParameter DtoWithOneParameter}.
+     * @return An immutable instance of DtoWithOneParameter
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithOneParameter build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DtoWithOneParameter(someString);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SOME_STRING) != 0) attributes.add("someString");
+      return "Cannot build DtoWithOneParameter, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalInteger}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithOptionalInteger.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalInteger"})
+@Immutable
+public final class DtoWithOptionalInteger
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalInteger {
+  private final @Nullable Integer number;
+
+  private DtoWithOptionalInteger(@Nullable Integer number) {
+    this.number = number;
+  }
+
+  /**
+   * @return The value of the {@code number} attribute
+   */
+  @Override
+  public Optional<Integer> getNumber() {
+    return Optional.ofNullable(number);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalInteger#getNumber() number} attribute.
+   * @param value The value for number
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionalInteger withNumber(int value) {
+    @Nullable Integer newValue = value;
+    if (Objects.equals(this.number, newValue)) return this;
+    return new DtoWithOptionalInteger(newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalInteger#getNumber() number} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for number
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionalInteger withNumber(Optional<Integer> optional) {
+    @Nullable Integer value = optional.orElse(null);
+    if (Objects.equals(this.number, value)) return this;
+    return new DtoWithOptionalInteger(value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithOptionalInteger} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithOptionalInteger
+        && equalTo((DtoWithOptionalInteger) another);
+  }
+
+  private boolean equalTo(DtoWithOptionalInteger another) {
+    return Objects.equals(number, another.number);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code number}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(number);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithOptionalInteger} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithOptionalInteger")
+        .omitNullValues()
+        .add("number", number)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalInteger} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithOptionalInteger instance
+   */
+  static DtoWithOptionalInteger copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalInteger instance) {
+    if (instance instanceof DtoWithOptionalInteger) {
+      return (DtoWithOptionalInteger) instance;
+    }
+    return DtoWithOptionalInteger.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithOptionalInteger DtoWithOptionalInteger}.
+   * @return A new DtoWithOptionalInteger builder
+   */
+  public static DtoWithOptionalInteger.Builder builder() {
+    return new DtoWithOptionalInteger.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithOptionalInteger DtoWithOptionalInteger}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable Integer number;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithOptionalInteger} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithOptionalInteger instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalInteger) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithOptionalInteger} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalInteger instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<Integer> numberOptional = instance.getNumber();
+      if (numberOptional.isPresent()) {
+        setNumber(numberOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalInteger#getNumber() number} to number.
+     * @param number The value for number
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNumber(int number) {
+      this.number = number;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalInteger#getNumber() number} to number.
+     * @param number The value for number
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNumber(Optional<Integer> number) {
+      this.number = number.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DtoWithOptionalInteger DtoWithOptionalInteger}.
+     * @return An immutable instance of DtoWithOptionalInteger
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithOptionalInteger build() {
+      return new DtoWithOptionalInteger(number);
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalSetOfStrings}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithOptionalSetOfStrings.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalSetOfStrings"})
+@Immutable
+public final class DtoWithOptionalSetOfStrings
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalSetOfStrings {
+  private final @Nullable Set<String> strings;
+
+  private DtoWithOptionalSetOfStrings(@Nullable Set<String> strings) {
+    this.strings = strings;
+  }
+
+  /**
+   * @return The value of the {@code strings} attribute
+   */
+  @Override
+  public Optional<Set<String>> getStrings() {
+    return Optional.ofNullable(strings);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalSetOfStrings#getStrings() strings} attribute.
+   * @param value The value for strings
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionalSetOfStrings withStrings(Set<String> value) {
+    @Nullable Set<String> newValue = Objects.requireNonNull(value, "strings");
+    if (this.strings == newValue) return this;
+    return new DtoWithOptionalSetOfStrings(newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalSetOfStrings#getStrings() strings} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for strings
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionalSetOfStrings withStrings(Optional<? extends Set<String>> optional) {
+    @Nullable Set<String> value = optional.orElse(null);
+    if (this.strings == value) return this;
+    return new DtoWithOptionalSetOfStrings(value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithOptionalSetOfStrings} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithOptionalSetOfStrings
+        && equalTo((DtoWithOptionalSetOfStrings) another);
+  }
+
+  private boolean equalTo(DtoWithOptionalSetOfStrings another) {
+    return Objects.equals(strings, another.strings);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code strings}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(strings);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithOptionalSetOfStrings} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithOptionalSetOfStrings")
+        .omitNullValues()
+        .add("strings", strings)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalSetOfStrings} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithOptionalSetOfStrings instance
+   */
+  static DtoWithOptionalSetOfStrings copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalSetOfStrings instance) {
+    if (instance instanceof DtoWithOptionalSetOfStrings) {
+      return (DtoWithOptionalSetOfStrings) instance;
+    }
+    return DtoWithOptionalSetOfStrings.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithOptionalSetOfStrings DtoWithOptionalSetOfStrings}.
+   * @return A new DtoWithOptionalSetOfStrings builder
+   */
+  public static DtoWithOptionalSetOfStrings.Builder builder() {
+    return new DtoWithOptionalSetOfStrings.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithOptionalSetOfStrings DtoWithOptionalSetOfStrings}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable Set<String> strings;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithOptionalSetOfStrings} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithOptionalSetOfStrings instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalSetOfStrings) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithOptionalSetOfStrings} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalSetOfStrings instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<Set<String>> stringsOptional = instance.getStrings();
+      if (stringsOptional.isPresent()) {
+        setStrings(stringsOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalSetOfStrings#getStrings() strings} to strings.
+     * @param strings The value for strings
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStrings(Set<String> strings) {
+      this.strings = Objects.requireNonNull(strings, "strings");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalSetOfStrings#getStrings() strings} to strings.
+     * @param strings The value for strings
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStrings(Optional<? extends Set<String>> strings) {
+      this.strings = strings.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DtoWithOptionalSetOfStrings DtoWithOptionalSetOfStrings}.
+     * @return An immutable instance of DtoWithOptionalSetOfStrings
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithOptionalSetOfStrings build() {
+      return new DtoWithOptionalSetOfStrings(strings);
+    }
+  }
+}
@@ -0,0 +1,379 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithOptionalValues.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues"})
+@Immutable
+public final class DtoWithOptionalValues
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues {
+  private final @Nullable String noString;
+  private final @Nullable String defaultString;
+  private final @Nullable SourcePath noSourcePath;
+  private final @Nullable SourcePath defaultSourcePath;
+
+  private DtoWithOptionalValues(
+      @Nullable String noString,
+      @Nullable String defaultString,
+      @Nullable SourcePath noSourcePath,
+      @Nullable SourcePath defaultSourcePath) {
+    this.noString = noString;
+    this.defaultString = defaultString;
+    this.noSourcePath = noSourcePath;
+    this.defaultSourcePath = defaultSourcePath;
+  }
+
+  /**
+   * @return The value of the {@code noString} attribute
+   */
+  @Override
+  public Optional<String> getNoString() {
+    return Optional.ofNullable(noString);
+  }
+
+  /**
+   * @return The value of the {@code defaultString} attribute
+   */
+  @Override
+  public Optional<String> getDefaultString() {
+    return Optional.ofNullable(defaultString);
+  }
+
+  /**
+   * @return The value of the {@code noSourcePath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getNoSourcePath() {
+    return Optional.ofNullable(noSourcePath);
+  }
+
+  /**
+   * @return The value of the {@code defaultSourcePath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getDefaultSourcePath() {
+    return Optional.ofNullable(defaultSourcePath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues#getNoString() noString} attribute.
+   * @param value The value for noString
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionalValues withNoString(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "noString");
+    if (Objects.equals(this.noString, newValue)) return this;
+    return new DtoWithOptionalValues(newValue, this.defaultString, this.noSourcePath, this.defaultSourcePath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues#getNoString() noString} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for noString
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionalValues withNoString(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.noString, value)) return this;
+    return new DtoWithOptionalValues(value, this.defaultString, this.noSourcePath, this.defaultSourcePath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues#getDefaultString() defaultString} attribute.
+   * @param value The value for defaultString
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionalValues withDefaultString(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "defaultString");
+    if (Objects.equals(this.defaultString, newValue)) return this;
+    return new DtoWithOptionalValues(this.noString, newValue, this.noSourcePath, this.defaultSourcePath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues#getDefaultString() defaultString} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for defaultString
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionalValues withDefaultString(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.defaultString, value)) return this;
+    return new DtoWithOptionalValues(this.noString, value, this.noSourcePath, this.defaultSourcePath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues#getNoSourcePath() noSourcePath} attribute.
+   * @param value The value for noSourcePath
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionalValues withNoSourcePath(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "noSourcePath");
+    if (this.noSourcePath == newValue) return this;
+    return new DtoWithOptionalValues(this.noString, this.defaultString, newValue, this.defaultSourcePath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues#getNoSourcePath() noSourcePath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for noSourcePath
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionalValues withNoSourcePath(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.noSourcePath == value) return this;
+    return new DtoWithOptionalValues(this.noString, this.defaultString, value, this.defaultSourcePath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues#getDefaultSourcePath() defaultSourcePath} attribute.
+   * @param value The value for defaultSourcePath
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionalValues withDefaultSourcePath(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "defaultSourcePath");
+    if (this.defaultSourcePath == newValue) return this;
+    return new DtoWithOptionalValues(this.noString, this.defaultString, this.noSourcePath, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues#getDefaultSourcePath() defaultSourcePath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for defaultSourcePath
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionalValues withDefaultSourcePath(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.defaultSourcePath == value) return this;
+    return new DtoWithOptionalValues(this.noString, this.defaultString, this.noSourcePath, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithOptionalValues} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithOptionalValues
+        && equalTo((DtoWithOptionalValues) another);
+  }
+
+  private boolean equalTo(DtoWithOptionalValues another) {
+    return Objects.equals(noString, another.noString)
+        && Objects.equals(defaultString, another.defaultString)
+        && Objects.equals(noSourcePath, another.noSourcePath)
+        && Objects.equals(defaultSourcePath, another.defaultSourcePath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code noString}, {@code defaultString}, {@code noSourcePath}, {@code defaultSourcePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(noString);
+    h += (h << 5) + Objects.hashCode(defaultString);
+    h += (h << 5) + Objects.hashCode(noSourcePath);
+    h += (h << 5) + Objects.hashCode(defaultSourcePath);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithOptionalValues} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithOptionalValues")
+        .omitNullValues()
+        .add("noString", noString)
+        .add("defaultString", defaultString)
+        .add("noSourcePath", noSourcePath)
+        .add("defaultSourcePath", defaultSourcePath)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithOptionalValues instance
+   */
+  static DtoWithOptionalValues copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues instance) {
+    if (instance instanceof DtoWithOptionalValues) {
+      return (DtoWithOptionalValues) instance;
+    }
+    return DtoWithOptionalValues.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithOptionalValues DtoWithOptionalValues}.
+   * @return A new DtoWithOptionalValues builder
+   */
+  public static DtoWithOptionalValues.Builder builder() {
+    return new DtoWithOptionalValues.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithOptionalValues DtoWithOptionalValues}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable String noString;
+    private @Nullable String defaultString;
+    private @Nullable SourcePath noSourcePath;
+    private @Nullable SourcePath defaultSourcePath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithOptionalValues} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithOptionalValues instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithOptionalValues} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<String> noStringOptional = instance.getNoString();
+      if (noStringOptional.isPresent()) {
+        setNoString(noStringOptional);
+      }
+      Optional<String> defaultStringOptional = instance.getDefaultString();
+      if (defaultStringOptional.isPresent()) {
+        setDefaultString(defaultStringOptional);
+      }
+      Optional<SourcePath> noSourcePathOptional = instance.getNoSourcePath();
+      if (noSourcePathOptional.isPresent()) {
+        setNoSourcePath(noSourcePathOptional);
+      }
+      Optional<SourcePath> defaultSourcePathOptional = instance.getDefaultSourcePath();
+      if (defaultSourcePathOptional.isPresent()) {
+        setDefaultSourcePath(defaultSourcePathOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues#getNoString() noString} to noString.
+     * @param noString The value for noString
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNoString(String noString) {
+      this.noString = Objects.requireNonNull(noString, "noString");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues#getNoString() noString} to noString.
+     * @param noString The value for noString
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNoString(Optional<String> noString) {
+      this.noString = noString.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues#getDefaultString() defaultString} to defaultString.
+     * @param defaultString The value for defaultString
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDefaultString(String defaultString) {
+      this.defaultString = Objects.requireNonNull(defaultString, "defaultString");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues#getDefaultString() defaultString} to defaultString.
+     * @param defaultString The value for defaultString
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDefaultString(Optional<String> defaultString) {
+      this.defaultString = defaultString.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues#getNoSourcePath() noSourcePath} to noSourcePath.
+     * @param noSourcePath The value for noSourcePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNoSourcePath(SourcePath noSourcePath) {
+      this.noSourcePath = Objects.requireNonNull(noSourcePath, "noSourcePath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues#getNoSourcePath() noSourcePath} to noSourcePath.
+     * @param noSourcePath The value for noSourcePath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNoSourcePath(Optional<? extends SourcePath> noSourcePath) {
+      this.noSourcePath = noSourcePath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues#getDefaultSourcePath() defaultSourcePath} to defaultSourcePath.
+     * @param defaultSourcePath The value for defaultSourcePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDefaultSourcePath(SourcePath defaultSourcePath) {
+      this.defaultSourcePath = Objects.requireNonNull(defaultSourcePath, "defaultSourcePath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithOptionalValues#getDefaultSourcePath() defaultSourcePath} to defaultSourcePath.
+     * @param defaultSourcePath The value for defaultSourcePath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDefaultSourcePath(Optional<? extends SourcePath> defaultSourcePath) {
+      this.defaultSourcePath = defaultSourcePath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DtoWithOptionalValues DtoWithOptionalValues}.
+     * @return An immutable instance of DtoWithOptionalValues
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithOptionalValues build() {
+      return new DtoWithOptionalValues(noString, defaultString, noSourcePath, defaultSourcePath);
+    }
+  }
+}
@@ -0,0 +1,983 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedSet;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link BuilderParamInfoTest.AbstractDtoWithOptionals}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithOptionals.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuilderParamInfoTest.AbstractDtoWithOptionals"})
+@Immutable
+public final class DtoWithOptionals
+    extends BuilderParamInfoTest.AbstractDtoWithOptionals {
+  private final @Nullable String optional;
+  private final @Nullable ImmutableSet<String> optionalImmutableSet;
+  private final ImmutableSet<String> set;
+  private final ImmutableSet<String> immutableSet;
+  private final SortedSet<String> sortedSet;
+  private final ImmutableSortedSet<String> immutableSortedSet;
+  private final ImmutableList<String> list;
+  private final ImmutableList<String> immutableList;
+  private final ImmutableMap<String, String> map;
+  private final ImmutableMap<String, String> immutableMap;
+
+  private DtoWithOptionals(
+      @Nullable String optional,
+      @Nullable ImmutableSet<String> optionalImmutableSet,
+      ImmutableSet<String> set,
+      ImmutableSet<String> immutableSet,
+      SortedSet<String> sortedSet,
+      ImmutableSortedSet<String> immutableSortedSet,
+      ImmutableList<String> list,
+      ImmutableList<String> immutableList,
+      ImmutableMap<String, String> map,
+      ImmutableMap<String, String> immutableMap) {
+    this.optional = optional;
+    this.optionalImmutableSet = optionalImmutableSet;
+    this.set = set;
+    this.immutableSet = immutableSet;
+    this.sortedSet = sortedSet;
+    this.immutableSortedSet = immutableSortedSet;
+    this.list = list;
+    this.immutableList = immutableList;
+    this.map = map;
+    this.immutableMap = immutableMap;
+  }
+
+  /**
+   * @return The value of the {@code optional} attribute
+   */
+  @Override
+  public Optional<String> getOptional() {
+    return Optional.ofNullable(optional);
+  }
+
+  /**
+   * @return The value of the {@code optionalImmutableSet} attribute
+   */
+  @Override
+  public Optional<ImmutableSet<String>> getOptionalImmutableSet() {
+    return Optional.ofNullable(optionalImmutableSet);
+  }
+
+  /**
+   * @return The value of the {@code set} attribute
+   */
+  @Override
+  public ImmutableSet<String> getSet() {
+    return set;
+  }
+
+  /**
+   * @return The value of the {@code immutableSet} attribute
+   */
+  @Override
+  public ImmutableSet<String> getImmutableSet() {
+    return immutableSet;
+  }
+
+  /**
+   * @return The value of the {@code sortedSet} attribute
+   */
+  @Override
+  public SortedSet<String> getSortedSet() {
+    return sortedSet;
+  }
+
+  /**
+   * @return The value of the {@code immutableSortedSet} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getImmutableSortedSet() {
+    return immutableSortedSet;
+  }
+
+  /**
+   * @return The value of the {@code list} attribute
+   */
+  @Override
+  public ImmutableList<String> getList() {
+    return list;
+  }
+
+  /**
+   * @return The value of the {@code immutableList} attribute
+   */
+  @Override
+  public ImmutableList<String> getImmutableList() {
+    return immutableList;
+  }
+
+  /**
+   * @return The value of the {@code map} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getMap() {
+    return map;
+  }
+
+  /**
+   * @return The value of the {@code immutableMap} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getImmutableMap() {
+    return immutableMap;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getOptional() optional} attribute.
+   * @param value The value for optional
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionals withOptional(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "optional");
+    if (Objects.equals(this.optional, newValue)) return this;
+    return new DtoWithOptionals(
+        newValue,
+        this.optionalImmutableSet,
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getOptional() optional} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for optional
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionals withOptional(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.optional, value)) return this;
+    return new DtoWithOptionals(
+        value,
+        this.optionalImmutableSet,
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getOptionalImmutableSet() optionalImmutableSet} attribute.
+   * @param value The value for optionalImmutableSet
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionals withOptionalImmutableSet(ImmutableSet<String> value) {
+    @Nullable ImmutableSet<String> newValue = Objects.requireNonNull(value, "optionalImmutableSet");
+    if (this.optionalImmutableSet == newValue) return this;
+    return new DtoWithOptionals(
+        this.optional,
+        newValue,
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getOptionalImmutableSet() optionalImmutableSet} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for optionalImmutableSet
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionals withOptionalImmutableSet(Optional<? extends ImmutableSet<String>> optional) {
+    @Nullable ImmutableSet<String> value = optional.orElse(null);
+    if (this.optionalImmutableSet == value) return this;
+    return new DtoWithOptionals(
+        this.optional,
+        value,
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getSet() set}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionals withSet(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithOptionals(
+        this.optional,
+        this.optionalImmutableSet,
+        newValue,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getSet() set}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of set elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionals withSet(Iterable<String> elements) {
+    if (this.set == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithOptionals(
+        this.optional,
+        this.optionalImmutableSet,
+        newValue,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableSet() immutableSet}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionals withImmutableSet(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithOptionals(
+        this.optional,
+        this.optionalImmutableSet,
+        this.set,
+        newValue,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableSet() immutableSet}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of immutableSet elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionals withImmutableSet(Iterable<String> elements) {
+    if (this.immutableSet == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithOptionals(
+        this.optional,
+        this.optionalImmutableSet,
+        this.set,
+        newValue,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getSortedSet() sortedSet} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sortedSet
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithOptionals withSortedSet(SortedSet<String> value) {
+    if (this.sortedSet == value) return this;
+    SortedSet<String> newValue = Objects.requireNonNull(value, "sortedSet");
+    return new DtoWithOptionals(
+        this.optional,
+        this.optionalImmutableSet,
+        this.set,
+        this.immutableSet,
+        newValue,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableSortedSet() immutableSortedSet} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for immutableSortedSet
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithOptionals withImmutableSortedSet(ImmutableSortedSet<String> value) {
+    if (this.immutableSortedSet == value) return this;
+    ImmutableSortedSet<String> newValue = Objects.requireNonNull(value, "immutableSortedSet");
+    return new DtoWithOptionals(
+        this.optional,
+        this.optionalImmutableSet,
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        newValue,
+        this.list,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getList() list}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionals withList(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new DtoWithOptionals(
+        this.optional,
+        this.optionalImmutableSet,
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        newValue,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getList() list}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of list elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionals withList(Iterable<String> elements) {
+    if (this.list == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new DtoWithOptionals(
+        this.optional,
+        this.optionalImmutableSet,
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        newValue,
+        this.immutableList,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableList() immutableList}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionals withImmutableList(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new DtoWithOptionals(
+        this.optional,
+        this.optionalImmutableSet,
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        newValue,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableList() immutableList}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of immutableList elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionals withImmutableList(Iterable<String> elements) {
+    if (this.immutableList == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new DtoWithOptionals(
+        this.optional,
+        this.optionalImmutableSet,
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        newValue,
+        this.map,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getMap() map} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the map map
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionals withMap(Map<String, ? extends String> entries) {
+    if (this.map == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new DtoWithOptionals(
+        this.optional,
+        this.optionalImmutableSet,
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        newValue,
+        this.immutableMap);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableMap() immutableMap} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the immutableMap map
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithOptionals withImmutableMap(Map<String, ? extends String> entries) {
+    if (this.immutableMap == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new DtoWithOptionals(
+        this.optional,
+        this.optionalImmutableSet,
+        this.set,
+        this.immutableSet,
+        this.sortedSet,
+        this.immutableSortedSet,
+        this.list,
+        this.immutableList,
+        this.map,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithOptionals} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithOptionals
+        && equalTo((DtoWithOptionals) another);
+  }
+
+  private boolean equalTo(DtoWithOptionals another) {
+    return Objects.equals(optional, another.optional)
+        && Objects.equals(optionalImmutableSet, another.optionalImmutableSet)
+        && set.equals(another.set)
+        && immutableSet.equals(another.immutableSet)
+        && sortedSet.equals(another.sortedSet)
+        && immutableSortedSet.equals(another.immutableSortedSet)
+        && list.equals(another.list)
+        && immutableList.equals(another.immutableList)
+        && map.equals(another.map)
+        && immutableMap.equals(another.immutableMap);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code optional}, {@code optionalImmutableSet}, {@code set}, {@code immutableSet}, {@code sortedSet}, {@code immutableSortedSet}, {@code list}, {@code immutableList}, {@code map}, {@code immutableMap}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(optional);
+    h += (h << 5) + Objects.hashCode(optionalImmutableSet);
+    h += (h << 5) + set.hashCode();
+    h += (h << 5) + immutableSet.hashCode();
+    h += (h << 5) + sortedSet.hashCode();
+    h += (h << 5) + immutableSortedSet.hashCode();
+    h += (h << 5) + list.hashCode();
+    h += (h << 5) + immutableList.hashCode();
+    h += (h << 5) + map.hashCode();
+    h += (h << 5) + immutableMap.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithOptionals} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithOptionals")
+        .omitNullValues()
+        .add("optional", optional)
+        .add("optionalImmutableSet", optionalImmutableSet)
+        .add("set", set)
+        .add("immutableSet", immutableSet)
+        .add("sortedSet", sortedSet)
+        .add("immutableSortedSet", immutableSortedSet)
+        .add("list", list)
+        .add("immutableList", immutableList)
+        .add("map", map)
+        .add("immutableMap", immutableMap)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link BuilderParamInfoTest.AbstractDtoWithOptionals} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithOptionals instance
+   */
+  static DtoWithOptionals copyOf(BuilderParamInfoTest.AbstractDtoWithOptionals instance) {
+    if (instance instanceof DtoWithOptionals) {
+      return (DtoWithOptionals) instance;
+    }
+    return DtoWithOptionals.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithOptionals DtoWithOptionals}.
+   * @return A new DtoWithOptionals builder
+   */
+  public static DtoWithOptionals.Builder builder() {
+    return new DtoWithOptionals.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithOptionals DtoWithOptionals}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SORTED_SET = 0x1L;
+    private static final long INIT_BIT_IMMUTABLE_SORTED_SET = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String optional;
+    private @Nullable ImmutableSet<String> optionalImmutableSet;
+    private ImmutableSet.Builder<String> set = ImmutableSet.builder();
+    private ImmutableSet.Builder<String> immutableSet = ImmutableSet.builder();
+    private @Nullable SortedSet<String> sortedSet;
+    private @Nullable ImmutableSortedSet<String> immutableSortedSet;
+    private ImmutableList.Builder<String> list = ImmutableList.builder();
+    private ImmutableList.Builder<String> immutableList = ImmutableList.builder();
+    private ImmutableMap.Builder<String, String> map = ImmutableMap.builder();
+    private ImmutableMap.Builder<String, String> immutableMap = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithOptionals} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithOptionals instance) {
+      return from((BuilderParamInfoTest.AbstractDtoWithOptionals) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithOptionals} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(BuilderParamInfoTest.AbstractDtoWithOptionals instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<String> optionalOptional = instance.getOptional();
+      if (optionalOptional.isPresent()) {
+        setOptional(optionalOptional);
+      }
+      Optional<ImmutableSet<String>> optionalImmutableSetOptional = instance.getOptionalImmutableSet();
+      if (optionalImmutableSetOptional.isPresent()) {
+        setOptionalImmutableSet(optionalImmutableSetOptional);
+      }
+      addAllSet(instance.getSet());
+      addAllImmutableSet(instance.getImmutableSet());
+      setSortedSet(instance.getSortedSet());
+      setImmutableSortedSet(instance.getImmutableSortedSet());
+      addAllList(instance.getList());
+      addAllImmutableList(instance.getImmutableList());
+      putAllMap(instance.getMap());
+      putAllImmutableMap(instance.getImmutableMap());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getOptional() optional} to optional.
+     * @param optional The value for optional
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOptional(String optional) {
+      this.optional = Objects.requireNonNull(optional, "optional");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getOptional() optional} to optional.
+     * @param optional The value for optional
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOptional(Optional<String> optional) {
+      this.optional = optional.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getOptionalImmutableSet() optionalImmutableSet} to optionalImmutableSet.
+     * @param optionalImmutableSet The value for optionalImmutableSet
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOptionalImmutableSet(ImmutableSet<String> optionalImmutableSet) {
+      this.optionalImmutableSet = Objects.requireNonNull(optionalImmutableSet, "optionalImmutableSet");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getOptionalImmutableSet() optionalImmutableSet} to optionalImmutableSet.
+     * @param optionalImmutableSet The value for optionalImmutableSet
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOptionalImmutableSet(Optional<? extends ImmutableSet<String>> optionalImmutableSet) {
+      this.optionalImmutableSet = optionalImmutableSet.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getSet() set} set.
+     * @param element A set element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSet(String element) {
+      this.set.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getSet() set} set.
+     * @param elements An array of set elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSet(String... elements) {
+      this.set.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getSet() set} set.
+     * @param elements An iterable of set elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSet(Iterable<String> elements) {
+      this.set = ImmutableSet.builder();
+      return addAllSet(elements);
+    }
+
+    /**
+     * Adds elements to {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getSet() set} set.
+     * @param elements An iterable of set elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSet(Iterable<String> elements) {
+      this.set.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableSet() immutableSet} set.
+     * @param element A immutableSet element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addImmutableSet(String element) {
+      this.immutableSet.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableSet() immutableSet} set.
+     * @param elements An array of immutableSet elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addImmutableSet(String... elements) {
+      this.immutableSet.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableSet() immutableSet} set.
+     * @param elements An iterable of immutableSet elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setImmutableSet(Iterable<String> elements) {
+      this.immutableSet = ImmutableSet.builder();
+      return addAllImmutableSet(elements);
+    }
+
+    /**
+     * Adds elements to {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableSet() immutableSet} set.
+     * @param elements An iterable of immutableSet elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllImmutableSet(Iterable<String> elements) {
+      this.immutableSet.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getSortedSet() sortedSet} attribute.
+     * @param sortedSet The value for sortedSet 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSortedSet(SortedSet<String> sortedSet) {
+      this.sortedSet = Objects.requireNonNull(sortedSet, "sortedSet");
+      initBits &= ~INIT_BIT_SORTED_SET;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableSortedSet() immutableSortedSet} attribute.
+     * @param immutableSortedSet The value for immutableSortedSet 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setImmutableSortedSet(ImmutableSortedSet<String> immutableSortedSet) {
+      this.immutableSortedSet = Objects.requireNonNull(immutableSortedSet, "immutableSortedSet");
+      initBits &= ~INIT_BIT_IMMUTABLE_SORTED_SET;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getList() list} list.
+     * @param element A list element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addList(String element) {
+      this.list.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getList() list} list.
+     * @param elements An array of list elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addList(String... elements) {
+      this.list.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getList() list} list.
+     * @param elements An iterable of list elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setList(Iterable<String> elements) {
+      this.list = ImmutableList.builder();
+      return addAllList(elements);
+    }
+
+    /**
+     * Adds elements to {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getList() list} list.
+     * @param elements An iterable of list elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllList(Iterable<String> elements) {
+      this.list.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableList() immutableList} list.
+     * @param element A immutableList element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addImmutableList(String element) {
+      this.immutableList.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableList() immutableList} list.
+     * @param elements An array of immutableList elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addImmutableList(String... elements) {
+      this.immutableList.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableList() immutableList} list.
+     * @param elements An iterable of immutableList elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setImmutableList(Iterable<String> elements) {
+      this.immutableList = ImmutableList.builder();
+      return addAllImmutableList(elements);
+    }
+
+    /**
+     * Adds elements to {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableList() immutableList} list.
+     * @param elements An iterable of immutableList elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllImmutableList(Iterable<String> elements) {
+      this.immutableList.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getMap() map} map.
+     * @param key The key in the map map
+     * @param value The associated value in the map map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putMap(String key, String value) {
+      this.map.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getMap() map} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putMap(Map.Entry<String, ? extends String> entry) {
+      this.map.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getMap() map} map. Nulls are not permitted
+     * @param map The entries that will be added to the map map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMap(Map<String, ? extends String> map) {
+      this.map = ImmutableMap.builder();
+      return putAllMap(map);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getMap() map} map. Nulls are not permitted
+     * @param map The entries that will be added to the map map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllMap(Map<String, ? extends String> map) {
+      this.map.putAll(map);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableMap() immutableMap} map.
+     * @param key The key in the immutableMap map
+     * @param value The associated value in the immutableMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putImmutableMap(String key, String value) {
+      this.immutableMap.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableMap() immutableMap} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putImmutableMap(Map.Entry<String, ? extends String> entry) {
+      this.immutableMap.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableMap() immutableMap} map. Nulls are not permitted
+     * @param immutableMap The entries that will be added to the immutableMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setImmutableMap(Map<String, ? extends String> immutableMap) {
+      this.immutableMap = ImmutableMap.builder();
+      return putAllImmutableMap(immutableMap);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link BuilderParamInfoTest.AbstractDtoWithOptionals#getImmutableMap() immutableMap} map. Nulls are not permitted
+     * @param immutableMap The entries that will be added to the immutableMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllImmutableMap(Map<String, ? extends String> immutableMap) {
+      this.immutableMap.putAll(immutableMap);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DtoWithOptionals DtoWithOptionals}.
+     * @return An immutable instance of DtoWithOptionals
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithOptionals build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DtoWithOptionals(
+          optional,
+          optionalImmutableSet,
+          set.build(),
+          immutableSet.build(),
+          sortedSet,
+          immutableSortedSet,
+          list.build(),
+          immutableList.build(),
+          map.build(),
+          immutableMap.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SORTED_SET) != 0) attributes.add("sortedSet");
+      if ((initBits & INIT_BIT_IMMUTABLE_SORTED_SET) != 0) attributes.add("immutableSortedSet");
+      return "Cannot build DtoWithOptionals, some of required attributes are not set " + attributes;
+    }
+  }
+}
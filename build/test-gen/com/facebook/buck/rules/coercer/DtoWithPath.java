@@ -0,0 +1,183 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithPath}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithPath.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithPath"})
+@Immutable
+public final class DtoWithPath
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithPath {
+  private final Path path;
+
+  private DtoWithPath(Path path) {
+    this.path = path;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithPath#getPath() path} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithPath withPath(Path value) {
+    if (this.path == value) return this;
+    Path newValue = Objects.requireNonNull(value, "path");
+    return new DtoWithPath(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithPath} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithPath
+        && equalTo((DtoWithPath) another);
+  }
+
+  private boolean equalTo(DtoWithPath another) {
+    return path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithPath} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithPath")
+        .omitNullValues()
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithPath} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithPath instance
+   */
+  static DtoWithPath copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithPath instance) {
+    if (instance instanceof DtoWithPath) {
+      return (DtoWithPath) instance;
+    }
+    return DtoWithPath.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithPath DtoWithPath}.
+   * @return A new DtoWithPath builder
+   */
+  public static DtoWithPath.Builder builder() {
+    return new DtoWithPath.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithPath DtoWithPath}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PATH = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable Path path;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithPath} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithPath instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithPath) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithPath} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithPath instance) {
+      Objects.requireNonNull(instance, "instance");
+      setPath(instance.getPath());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithPath#getPath() path} attribute.
+     * @param path The value for path 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPath(Path path) {
+      this.path = Objects.requireNonNull(path, "path");
+      initBits &= ~INIT_BIT_PATH;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DtoWithPath DtoWithPath}.
+     * @return An immutable instance of DtoWithPath
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithPath build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DtoWithPath(path);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_PATH) != 0) attributes.add("path");
+      return "Cannot build DtoWithPath, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,210 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfPaths}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithSetOfPaths.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfPaths"})
+@Immutable
+public final class DtoWithSetOfPaths
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfPaths {
+  private final ImmutableSet<Path> paths;
+
+  private DtoWithSetOfPaths(ImmutableSet<Path> paths) {
+    this.paths = paths;
+  }
+
+  /**
+   * @return The value of the {@code paths} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getPaths() {
+    return paths;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfPaths#getPaths() paths}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithSetOfPaths withPaths(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithSetOfPaths(newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfPaths#getPaths() paths}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of paths elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithSetOfPaths withPaths(Iterable<? extends Path> elements) {
+    if (this.paths == elements) return this;
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithSetOfPaths(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithSetOfPaths} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithSetOfPaths
+        && equalTo((DtoWithSetOfPaths) another);
+  }
+
+  private boolean equalTo(DtoWithSetOfPaths another) {
+    return paths.equals(another.paths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code paths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + paths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithSetOfPaths} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithSetOfPaths")
+        .omitNullValues()
+        .add("paths", paths)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfPaths} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithSetOfPaths instance
+   */
+  static DtoWithSetOfPaths copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfPaths instance) {
+    if (instance instanceof DtoWithSetOfPaths) {
+      return (DtoWithSetOfPaths) instance;
+    }
+    return DtoWithSetOfPaths.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithSetOfPaths DtoWithSetOfPaths}.
+   * @return A new DtoWithSetOfPaths builder
+   */
+  public static DtoWithSetOfPaths.Builder builder() {
+    return new DtoWithSetOfPaths.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithSetOfPaths DtoWithSetOfPaths}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSet.Builder<Path> paths = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithSetOfPaths} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithSetOfPaths instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfPaths) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithSetOfPaths} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfPaths instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllPaths(instance.getPaths());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfPaths#getPaths() paths} set.
+     * @param element A paths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPaths(Path element) {
+      this.paths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfPaths#getPaths() paths} set.
+     * @param elements An array of paths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPaths(Path... elements) {
+      this.paths.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfPaths#getPaths() paths} set.
+     * @param elements An iterable of paths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPaths(Iterable<? extends Path> elements) {
+      this.paths = ImmutableSet.builder();
+      return addAllPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfPaths#getPaths() paths} set.
+     * @param elements An iterable of paths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPaths(Iterable<? extends Path> elements) {
+      this.paths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DtoWithSetOfPaths DtoWithSetOfPaths}.
+     * @return An immutable instance of DtoWithSetOfPaths
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithSetOfPaths build() {
+      return new DtoWithSetOfPaths(paths.build());
+    }
+  }
+}
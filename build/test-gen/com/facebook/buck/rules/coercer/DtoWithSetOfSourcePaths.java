@@ -0,0 +1,184 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfSourcePaths}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithSetOfSourcePaths.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfSourcePaths"})
+@Immutable
+public final class DtoWithSetOfSourcePaths
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfSourcePaths {
+  private final ImmutableSortedSet<SourcePath> srcs;
+
+  private DtoWithSetOfSourcePaths(ImmutableSortedSet<SourcePath> srcs) {
+    this.srcs = srcs;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfSourcePaths#getSrcs() srcs} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for srcs
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithSetOfSourcePaths withSrcs(ImmutableSortedSet<SourcePath> value) {
+    if (this.srcs == value) return this;
+    ImmutableSortedSet<SourcePath> newValue = Objects.requireNonNull(value, "srcs");
+    return new DtoWithSetOfSourcePaths(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithSetOfSourcePaths} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithSetOfSourcePaths
+        && equalTo((DtoWithSetOfSourcePaths) another);
+  }
+
+  private boolean equalTo(DtoWithSetOfSourcePaths another) {
+    return srcs.equals(another.srcs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code srcs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + srcs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithSetOfSourcePaths} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithSetOfSourcePaths")
+        .omitNullValues()
+        .add("srcs", srcs)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfSourcePaths} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithSetOfSourcePaths instance
+   */
+  static DtoWithSetOfSourcePaths copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfSourcePaths instance) {
+    if (instance instanceof DtoWithSetOfSourcePaths) {
+      return (DtoWithSetOfSourcePaths) instance;
+    }
+    return DtoWithSetOfSourcePaths.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithSetOfSourcePaths DtoWithSetOfSourcePaths}.
+   * @return A new DtoWithSetOfSourcePaths builder
+   */
+  public static DtoWithSetOfSourcePaths.Builder builder() {
+    return new DtoWithSetOfSourcePaths.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithSetOfSourcePaths DtoWithSetOfSourcePaths}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SRCS = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable ImmutableSortedSet<SourcePath> srcs;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithSetOfSourcePaths} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithSetOfSourcePaths instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfSourcePaths) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithSetOfSourcePaths} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfSourcePaths instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSrcs(instance.getSrcs());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfSourcePaths#getSrcs() srcs} attribute.
+     * @param srcs The value for srcs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(ImmutableSortedSet<SourcePath> srcs) {
+      this.srcs = Objects.requireNonNull(srcs, "srcs");
+      initBits &= ~INIT_BIT_SRCS;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DtoWithSetOfSourcePaths DtoWithSetOfSourcePaths}.
+     * @return An immutable instance of DtoWithSetOfSourcePaths
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithSetOfSourcePaths build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DtoWithSetOfSourcePaths(srcs);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SRCS) != 0) attributes.add("srcs");
+      return "Cannot build DtoWithSetOfSourcePaths, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,209 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfStrings}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithSetOfStrings.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfStrings"})
+@Immutable
+public final class DtoWithSetOfStrings
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfStrings {
+  private final ImmutableSet<String> strings;
+
+  private DtoWithSetOfStrings(ImmutableSet<String> strings) {
+    this.strings = strings;
+  }
+
+  /**
+   * @return The value of the {@code strings} attribute
+   */
+  @Override
+  public ImmutableSet<String> getStrings() {
+    return strings;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfStrings#getStrings() strings}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithSetOfStrings withStrings(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithSetOfStrings(newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfStrings#getStrings() strings}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of strings elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithSetOfStrings withStrings(Iterable<String> elements) {
+    if (this.strings == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new DtoWithSetOfStrings(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithSetOfStrings} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithSetOfStrings
+        && equalTo((DtoWithSetOfStrings) another);
+  }
+
+  private boolean equalTo(DtoWithSetOfStrings another) {
+    return strings.equals(another.strings);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code strings}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + strings.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithSetOfStrings} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithSetOfStrings")
+        .omitNullValues()
+        .add("strings", strings)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfStrings} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithSetOfStrings instance
+   */
+  static DtoWithSetOfStrings copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfStrings instance) {
+    if (instance instanceof DtoWithSetOfStrings) {
+      return (DtoWithSetOfStrings) instance;
+    }
+    return DtoWithSetOfStrings.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithSetOfStrings DtoWithSetOfStrings}.
+   * @return A new DtoWithSetOfStrings builder
+   */
+  public static DtoWithSetOfStrings.Builder builder() {
+    return new DtoWithSetOfStrings.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithSetOfStrings DtoWithSetOfStrings}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSet.Builder<String> strings = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithSetOfStrings} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithSetOfStrings instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfStrings) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithSetOfStrings} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfStrings instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllStrings(instance.getStrings());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfStrings#getStrings() strings} set.
+     * @param element A strings element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addStrings(String element) {
+      this.strings.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfStrings#getStrings() strings} set.
+     * @param elements An array of strings elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addStrings(String... elements) {
+      this.strings.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfStrings#getStrings() strings} set.
+     * @param elements An iterable of strings elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStrings(Iterable<String> elements) {
+      this.strings = ImmutableSet.builder();
+      return addAllStrings(elements);
+    }
+
+    /**
+     * Adds elements to {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSetOfStrings#getStrings() strings} set.
+     * @param elements An iterable of strings elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllStrings(Iterable<String> elements) {
+      this.strings.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DtoWithSetOfStrings DtoWithSetOfStrings}.
+     * @return An immutable instance of DtoWithSetOfStrings
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithSetOfStrings build() {
+      return new DtoWithSetOfStrings(strings.build());
+    }
+  }
+}
@@ -0,0 +1,224 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSourcePaths}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithSourcePaths.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithSourcePaths"})
+@Immutable
+public final class DtoWithSourcePaths
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithSourcePaths {
+  private final SourcePath filePath;
+  private final SourcePath targetPath;
+
+  private DtoWithSourcePaths(SourcePath filePath, SourcePath targetPath) {
+    this.filePath = filePath;
+    this.targetPath = targetPath;
+  }
+
+  /**
+   * @return The value of the {@code filePath} attribute
+   */
+  @Override
+  public SourcePath getFilePath() {
+    return filePath;
+  }
+
+  /**
+   * @return The value of the {@code targetPath} attribute
+   */
+  @Override
+  public SourcePath getTargetPath() {
+    return targetPath;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSourcePaths#getFilePath() filePath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for filePath
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithSourcePaths withFilePath(SourcePath value) {
+    if (this.filePath == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "filePath");
+    return new DtoWithSourcePaths(newValue, this.targetPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSourcePaths#getTargetPath() targetPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for targetPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithSourcePaths withTargetPath(SourcePath value) {
+    if (this.targetPath == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "targetPath");
+    return new DtoWithSourcePaths(this.filePath, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithSourcePaths} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithSourcePaths
+        && equalTo((DtoWithSourcePaths) another);
+  }
+
+  private boolean equalTo(DtoWithSourcePaths another) {
+    return filePath.equals(another.filePath)
+        && targetPath.equals(another.targetPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filePath}, {@code targetPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + filePath.hashCode();
+    h += (h << 5) + targetPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithSourcePaths} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithSourcePaths")
+        .omitNullValues()
+        .add("filePath", filePath)
+        .add("targetPath", targetPath)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSourcePaths} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithSourcePaths instance
+   */
+  static DtoWithSourcePaths copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithSourcePaths instance) {
+    if (instance instanceof DtoWithSourcePaths) {
+      return (DtoWithSourcePaths) instance;
+    }
+    return DtoWithSourcePaths.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithSourcePaths DtoWithSourcePaths}.
+   * @return A new DtoWithSourcePaths builder
+   */
+  public static DtoWithSourcePaths.Builder builder() {
+    return new DtoWithSourcePaths.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithSourcePaths DtoWithSourcePaths}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_FILE_PATH = 0x1L;
+    private static final long INIT_BIT_TARGET_PATH = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable SourcePath filePath;
+    private @Nullable SourcePath targetPath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithSourcePaths} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithSourcePaths instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithSourcePaths) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithSourcePaths} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithSourcePaths instance) {
+      Objects.requireNonNull(instance, "instance");
+      setFilePath(instance.getFilePath());
+      setTargetPath(instance.getTargetPath());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSourcePaths#getFilePath() filePath} attribute.
+     * @param filePath The value for filePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFilePath(SourcePath filePath) {
+      this.filePath = Objects.requireNonNull(filePath, "filePath");
+      initBits &= ~INIT_BIT_FILE_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithSourcePaths#getTargetPath() targetPath} attribute.
+     * @param targetPath The value for targetPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTargetPath(SourcePath targetPath) {
+      this.targetPath = Objects.requireNonNull(targetPath, "targetPath");
+      initBits &= ~INIT_BIT_TARGET_PATH;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DtoWithSourcePaths DtoWithSourcePaths}.
+     * @return An immutable instance of DtoWithSourcePaths
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithSourcePaths build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DtoWithSourcePaths(filePath, targetPath);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_FILE_PATH) != 0) attributes.add("filePath");
+      if ((initBits & INIT_BIT_TARGET_PATH) != 0) attributes.add("targetPath");
+      return "Cannot build DtoWithSourcePaths, some of required attributes are not set " + attributes;
+    }
+  }
+}
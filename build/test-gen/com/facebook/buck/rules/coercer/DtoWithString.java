@@ -0,0 +1,182 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithString}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithString.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithString"})
+@Immutable
+public final class DtoWithString
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithString {
+  private final String string;
+
+  private DtoWithString(String string) {
+    this.string = string;
+  }
+
+  /**
+   * @return The value of the {@code string} attribute
+   */
+  @Override
+  public String getString() {
+    return string;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithString#getString() string} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for string
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithString withString(String value) {
+    if (this.string.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "string");
+    return new DtoWithString(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithString} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithString
+        && equalTo((DtoWithString) another);
+  }
+
+  private boolean equalTo(DtoWithString another) {
+    return string.equals(another.string);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code string}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + string.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithString} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithString")
+        .omitNullValues()
+        .add("string", string)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithString} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithString instance
+   */
+  static DtoWithString copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithString instance) {
+    if (instance instanceof DtoWithString) {
+      return (DtoWithString) instance;
+    }
+    return DtoWithString.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithString DtoWithString}.
+   * @return A new DtoWithString builder
+   */
+  public static DtoWithString.Builder builder() {
+    return new DtoWithString.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithString DtoWithString}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_STRING = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String string;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithString} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithString instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithString) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithString} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithString instance) {
+      Objects.requireNonNull(instance, "instance");
+      setString(instance.getString());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithString#getString() string} attribute.
+     * @param string The value for string 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setString(String string) {
+      this.string = Objects.requireNonNull(string, "string");
+      initBits &= ~INIT_BIT_STRING;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DtoWithString DtoWithString}.
+     * @return An immutable instance of DtoWithString
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithString build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DtoWithString(string);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_STRING) != 0) attributes.add("string");
+      return "Cannot build DtoWithString, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,823 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DtoWithVariousTypes.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes"})
+@Immutable
+public final class DtoWithVariousTypes
+    extends ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes {
+  private final String required;
+  private final @Nullable String notRequired;
+  private final int num;
+  private final @Nullable Long optionalLong;
+  private final boolean needed;
+  private final @Nullable Boolean notNeeded;
+  private final SourcePath aSrcPath;
+  private final @Nullable SourcePath notASrcPath;
+  private final Path aPath;
+  private final @Nullable Path notAPath;
+
+  private DtoWithVariousTypes(
+      String required,
+      @Nullable String notRequired,
+      int num,
+      @Nullable Long optionalLong,
+      boolean needed,
+      @Nullable Boolean notNeeded,
+      SourcePath aSrcPath,
+      @Nullable SourcePath notASrcPath,
+      Path aPath,
+      @Nullable Path notAPath) {
+    this.required = required;
+    this.notRequired = notRequired;
+    this.num = num;
+    this.optionalLong = optionalLong;
+    this.needed = needed;
+    this.notNeeded = notNeeded;
+    this.aSrcPath = aSrcPath;
+    this.notASrcPath = notASrcPath;
+    this.aPath = aPath;
+    this.notAPath = notAPath;
+  }
+
+  /**
+   * @return The value of the {@code required} attribute
+   */
+  @Override
+  public String getRequired() {
+    return required;
+  }
+
+  /**
+   * @return The value of the {@code notRequired} attribute
+   */
+  @Override
+  public Optional<String> getNotRequired() {
+    return Optional.ofNullable(notRequired);
+  }
+
+  /**
+   * @return The value of the {@code num} attribute
+   */
+  @Override
+  public int getNum() {
+    return num;
+  }
+
+  /**
+   * @return The value of the {@code optionalLong} attribute
+   */
+  @Override
+  public Optional<Long> getOptionalLong() {
+    return Optional.ofNullable(optionalLong);
+  }
+
+  /**
+   * @return The value of the {@code needed} attribute
+   */
+  @Override
+  public boolean isNeeded() {
+    return needed;
+  }
+
+  /**
+   * @return The value of the {@code notNeeded} attribute
+   */
+  @Override
+  public Optional<Boolean> isNotNeeded() {
+    return Optional.ofNullable(notNeeded);
+  }
+
+  /**
+   * @return The value of the {@code aSrcPath} attribute
+   */
+  @Override
+  public SourcePath getASrcPath() {
+    return aSrcPath;
+  }
+
+  /**
+   * @return The value of the {@code notASrcPath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getNotASrcPath() {
+    return Optional.ofNullable(notASrcPath);
+  }
+
+  /**
+   * @return The value of the {@code aPath} attribute
+   */
+  @Override
+  public Path getAPath() {
+    return aPath;
+  }
+
+  /**
+   * @return The value of the {@code notAPath} attribute
+   */
+  @Override
+  public Optional<Path> getNotAPath() {
+    return Optional.ofNullable(notAPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getRequired() required} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for required
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithVariousTypes withRequired(String value) {
+    if (this.required.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "required");
+    return new DtoWithVariousTypes(
+        newValue,
+        this.notRequired,
+        this.num,
+        this.optionalLong,
+        this.needed,
+        this.notNeeded,
+        this.aSrcPath,
+        this.notASrcPath,
+        this.aPath,
+        this.notAPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getNotRequired() notRequired} attribute.
+   * @param value The value for notRequired
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithVariousTypes withNotRequired(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "notRequired");
+    if (Objects.equals(this.notRequired, newValue)) return this;
+    return new DtoWithVariousTypes(
+        this.required,
+        newValue,
+        this.num,
+        this.optionalLong,
+        this.needed,
+        this.notNeeded,
+        this.aSrcPath,
+        this.notASrcPath,
+        this.aPath,
+        this.notAPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getNotRequired() notRequired} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for notRequired
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithVariousTypes withNotRequired(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.notRequired, value)) return this;
+    return new DtoWithVariousTypes(
+        this.required,
+        value,
+        this.num,
+        this.optionalLong,
+        this.needed,
+        this.notNeeded,
+        this.aSrcPath,
+        this.notASrcPath,
+        this.aPath,
+        this.notAPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getNum() num} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for num
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithVariousTypes withNum(int value) {
+    if (this.num == value) return this;
+    return new DtoWithVariousTypes(
+        this.required,
+        this.notRequired,
+        value,
+        this.optionalLong,
+        this.needed,
+        this.notNeeded,
+        this.aSrcPath,
+        this.notASrcPath,
+        this.aPath,
+        this.notAPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getOptionalLong() optionalLong} attribute.
+   * @param value The value for optionalLong
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithVariousTypes withOptionalLong(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.optionalLong, newValue)) return this;
+    return new DtoWithVariousTypes(
+        this.required,
+        this.notRequired,
+        this.num,
+        newValue,
+        this.needed,
+        this.notNeeded,
+        this.aSrcPath,
+        this.notASrcPath,
+        this.aPath,
+        this.notAPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getOptionalLong() optionalLong} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for optionalLong
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithVariousTypes withOptionalLong(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.optionalLong, value)) return this;
+    return new DtoWithVariousTypes(
+        this.required,
+        this.notRequired,
+        this.num,
+        value,
+        this.needed,
+        this.notNeeded,
+        this.aSrcPath,
+        this.notASrcPath,
+        this.aPath,
+        this.notAPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#isNeeded() needed} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for needed
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithVariousTypes withNeeded(boolean value) {
+    if (this.needed == value) return this;
+    return new DtoWithVariousTypes(
+        this.required,
+        this.notRequired,
+        this.num,
+        this.optionalLong,
+        value,
+        this.notNeeded,
+        this.aSrcPath,
+        this.notASrcPath,
+        this.aPath,
+        this.notAPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#isNotNeeded() notNeeded} attribute.
+   * @param value The value for notNeeded
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithVariousTypes withNotNeeded(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.notNeeded, newValue)) return this;
+    return new DtoWithVariousTypes(
+        this.required,
+        this.notRequired,
+        this.num,
+        this.optionalLong,
+        this.needed,
+        newValue,
+        this.aSrcPath,
+        this.notASrcPath,
+        this.aPath,
+        this.notAPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#isNotNeeded() notNeeded} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for notNeeded
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithVariousTypes withNotNeeded(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.notNeeded, value)) return this;
+    return new DtoWithVariousTypes(
+        this.required,
+        this.notRequired,
+        this.num,
+        this.optionalLong,
+        this.needed,
+        value,
+        this.aSrcPath,
+        this.notASrcPath,
+        this.aPath,
+        this.notAPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getASrcPath() aSrcPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for aSrcPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithVariousTypes withASrcPath(SourcePath value) {
+    if (this.aSrcPath == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "aSrcPath");
+    return new DtoWithVariousTypes(
+        this.required,
+        this.notRequired,
+        this.num,
+        this.optionalLong,
+        this.needed,
+        this.notNeeded,
+        newValue,
+        this.notASrcPath,
+        this.aPath,
+        this.notAPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getNotASrcPath() notASrcPath} attribute.
+   * @param value The value for notASrcPath
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithVariousTypes withNotASrcPath(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "notASrcPath");
+    if (this.notASrcPath == newValue) return this;
+    return new DtoWithVariousTypes(
+        this.required,
+        this.notRequired,
+        this.num,
+        this.optionalLong,
+        this.needed,
+        this.notNeeded,
+        this.aSrcPath,
+        newValue,
+        this.aPath,
+        this.notAPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getNotASrcPath() notASrcPath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for notASrcPath
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithVariousTypes withNotASrcPath(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.notASrcPath == value) return this;
+    return new DtoWithVariousTypes(
+        this.required,
+        this.notRequired,
+        this.num,
+        this.optionalLong,
+        this.needed,
+        this.notNeeded,
+        this.aSrcPath,
+        value,
+        this.aPath,
+        this.notAPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getAPath() aPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for aPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final DtoWithVariousTypes withAPath(Path value) {
+    if (this.aPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "aPath");
+    return new DtoWithVariousTypes(
+        this.required,
+        this.notRequired,
+        this.num,
+        this.optionalLong,
+        this.needed,
+        this.notNeeded,
+        this.aSrcPath,
+        this.notASrcPath,
+        newValue,
+        this.notAPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getNotAPath() notAPath} attribute.
+   * @param value The value for notAPath
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithVariousTypes withNotAPath(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "notAPath");
+    if (this.notAPath == newValue) return this;
+    return new DtoWithVariousTypes(
+        this.required,
+        this.notRequired,
+        this.num,
+        this.optionalLong,
+        this.needed,
+        this.notNeeded,
+        this.aSrcPath,
+        this.notASrcPath,
+        this.aPath,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getNotAPath() notAPath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for notAPath
+   * @return A modified copy of {@code this} object
+   */
+  public final DtoWithVariousTypes withNotAPath(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.notAPath == value) return this;
+    return new DtoWithVariousTypes(
+        this.required,
+        this.notRequired,
+        this.num,
+        this.optionalLong,
+        this.needed,
+        this.notNeeded,
+        this.aSrcPath,
+        this.notASrcPath,
+        this.aPath,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DtoWithVariousTypes} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DtoWithVariousTypes
+        && equalTo((DtoWithVariousTypes) another);
+  }
+
+  private boolean equalTo(DtoWithVariousTypes another) {
+    return required.equals(another.required)
+        && Objects.equals(notRequired, another.notRequired)
+        && num == another.num
+        && Objects.equals(optionalLong, another.optionalLong)
+        && needed == another.needed
+        && Objects.equals(notNeeded, another.notNeeded)
+        && aSrcPath.equals(another.aSrcPath)
+        && Objects.equals(notASrcPath, another.notASrcPath)
+        && aPath.equals(another.aPath)
+        && Objects.equals(notAPath, another.notAPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code required}, {@code notRequired}, {@code num}, {@code optionalLong}, {@code needed}, {@code notNeeded}, {@code aSrcPath}, {@code notASrcPath}, {@code aPath}, {@code notAPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + required.hashCode();
+    h += (h << 5) + Objects.hashCode(notRequired);
+    h += (h << 5) + num;
+    h += (h << 5) + Objects.hashCode(optionalLong);
+    h += (h << 5) + Booleans.hashCode(needed);
+    h += (h << 5) + Objects.hashCode(notNeeded);
+    h += (h << 5) + aSrcPath.hashCode();
+    h += (h << 5) + Objects.hashCode(notASrcPath);
+    h += (h << 5) + aPath.hashCode();
+    h += (h << 5) + Objects.hashCode(notAPath);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DtoWithVariousTypes} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DtoWithVariousTypes")
+        .omitNullValues()
+        .add("required", required)
+        .add("notRequired", notRequired)
+        .add("num", num)
+        .add("optionalLong", optionalLong)
+        .add("needed", needed)
+        .add("notNeeded", notNeeded)
+        .add("aSrcPath", aSrcPath)
+        .add("notASrcPath", notASrcPath)
+        .add("aPath", aPath)
+        .add("notAPath", notAPath)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DtoWithVariousTypes instance
+   */
+  static DtoWithVariousTypes copyOf(ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes instance) {
+    if (instance instanceof DtoWithVariousTypes) {
+      return (DtoWithVariousTypes) instance;
+    }
+    return DtoWithVariousTypes.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DtoWithVariousTypes DtoWithVariousTypes}.
+   * @return A new DtoWithVariousTypes builder
+   */
+  public static DtoWithVariousTypes.Builder builder() {
+    return new DtoWithVariousTypes.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DtoWithVariousTypes DtoWithVariousTypes}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_REQUIRED = 0x1L;
+    private static final long INIT_BIT_NUM = 0x2L;
+    private static final long INIT_BIT_NEEDED = 0x4L;
+    private static final long INIT_BIT_A_SRC_PATH = 0x8L;
+    private static final long INIT_BIT_A_PATH = 0x10L;
+    private long initBits = 0x1fL;
+
+    private @Nullable String required;
+    private @Nullable String notRequired;
+    private int num;
+    private @Nullable Long optionalLong;
+    private boolean needed;
+    private @Nullable Boolean notNeeded;
+    private @Nullable SourcePath aSrcPath;
+    private @Nullable SourcePath notASrcPath;
+    private @Nullable Path aPath;
+    private @Nullable Path notAPath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DtoWithVariousTypes} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DtoWithVariousTypes instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDtoWithVariousTypes} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes instance) {
+      Objects.requireNonNull(instance, "instance");
+      setRequired(instance.getRequired());
+      Optional<String> notRequiredOptional = instance.getNotRequired();
+      if (notRequiredOptional.isPresent()) {
+        setNotRequired(notRequiredOptional);
+      }
+      setNum(instance.getNum());
+      Optional<Long> optionalLongOptional = instance.getOptionalLong();
+      if (optionalLongOptional.isPresent()) {
+        setOptionalLong(optionalLongOptional);
+      }
+      setNeeded(instance.isNeeded());
+      Optional<Boolean> notNeededOptional = instance.isNotNeeded();
+      if (notNeededOptional.isPresent()) {
+        setNotNeeded(notNeededOptional);
+      }
+      setASrcPath(instance.getASrcPath());
+      Optional<SourcePath> notASrcPathOptional = instance.getNotASrcPath();
+      if (notASrcPathOptional.isPresent()) {
+        setNotASrcPath(notASrcPathOptional);
+      }
+      setAPath(instance.getAPath());
+      Optional<Path> notAPathOptional = instance.getNotAPath();
+      if (notAPathOptional.isPresent()) {
+        setNotAPath(notAPathOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getRequired() required} attribute.
+     * @param required The value for required 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRequired(String required) {
+      this.required = Objects.requireNonNull(required, "required");
+      initBits &= ~INIT_BIT_REQUIRED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getNotRequired() notRequired} to notRequired.
+     * @param notRequired The value for notRequired
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNotRequired(String notRequired) {
+      this.notRequired = Objects.requireNonNull(notRequired, "notRequired");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getNotRequired() notRequired} to notRequired.
+     * @param notRequired The value for notRequired
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNotRequired(Optional<String> notRequired) {
+      this.notRequired = notRequired.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getNum() num} attribute.
+     * @param num The value for num 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNum(int num) {
+      this.num = num;
+      initBits &= ~INIT_BIT_NUM;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getOptionalLong() optionalLong} to optionalLong.
+     * @param optionalLong The value for optionalLong
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOptionalLong(long optionalLong) {
+      this.optionalLong = optionalLong;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getOptionalLong() optionalLong} to optionalLong.
+     * @param optionalLong The value for optionalLong
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOptionalLong(Optional<Long> optionalLong) {
+      this.optionalLong = optionalLong.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#isNeeded() needed} attribute.
+     * @param needed The value for needed 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNeeded(boolean needed) {
+      this.needed = needed;
+      initBits &= ~INIT_BIT_NEEDED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#isNotNeeded() notNeeded} to notNeeded.
+     * @param notNeeded The value for notNeeded
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNotNeeded(boolean notNeeded) {
+      this.notNeeded = notNeeded;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#isNotNeeded() notNeeded} to notNeeded.
+     * @param notNeeded The value for notNeeded
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNotNeeded(Optional<Boolean> notNeeded) {
+      this.notNeeded = notNeeded.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getASrcPath() aSrcPath} attribute.
+     * @param aSrcPath The value for aSrcPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setASrcPath(SourcePath aSrcPath) {
+      this.aSrcPath = Objects.requireNonNull(aSrcPath, "aSrcPath");
+      initBits &= ~INIT_BIT_A_SRC_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getNotASrcPath() notASrcPath} to notASrcPath.
+     * @param notASrcPath The value for notASrcPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNotASrcPath(SourcePath notASrcPath) {
+      this.notASrcPath = Objects.requireNonNull(notASrcPath, "notASrcPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getNotASrcPath() notASrcPath} to notASrcPath.
+     * @param notASrcPath The value for notASrcPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNotASrcPath(Optional<? extends SourcePath> notASrcPath) {
+      this.notASrcPath = notASrcPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getAPath() aPath} attribute.
+     * @param aPath The value for aPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAPath(Path aPath) {
+      this.aPath = Objects.requireNonNull(aPath, "aPath");
+      initBits &= ~INIT_BIT_A_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getNotAPath() notAPath} to notAPath.
+     * @param notAPath The value for notAPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNotAPath(Path notAPath) {
+      this.notAPath = Objects.requireNonNull(notAPath, "notAPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConstructorArgMarshallerImmutableTest.AbstractDtoWithVariousTypes#getNotAPath() notAPath} to notAPath.
+     * @param notAPath The value for notAPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNotAPath(Optional<? extends Path> notAPath) {
+      this.notAPath = notAPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DtoWithVariousTypes DtoWithVariousTypes}.
+     * @return An immutable instance of DtoWithVariousTypes
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DtoWithVariousTypes build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DtoWithVariousTypes(
+          required,
+          notRequired,
+          num,
+          optionalLong,
+          needed,
+          notNeeded,
+          aSrcPath,
+          notASrcPath,
+          aPath,
+          notAPath);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_REQUIRED) != 0) attributes.add("required");
+      if ((initBits & INIT_BIT_NUM) != 0) attributes.add("num");
+      if ((initBits & INIT_BIT_NEEDED) != 0) attributes.add("needed");
+      if ((initBits & INIT_BIT_A_SRC_PATH) != 0) attributes.add("aSrcPath");
+      if ((initBits & INIT_BIT_A_PATH) != 0) attributes.add("aPath");
+      return "Cannot build DtoWithVariousTypes, some of required attributes are not set " + attributes;
+    }
+  }
+}
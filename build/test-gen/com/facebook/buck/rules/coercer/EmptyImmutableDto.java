@@ -0,0 +1,126 @@
+package com.facebook.buck.rules.coercer;
+
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractEmptyImmutableDto}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code EmptyImmutableDto.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractEmptyImmutableDto"})
+@Immutable
+public final class EmptyImmutableDto
+    extends ConstructorArgMarshallerImmutableTest.AbstractEmptyImmutableDto {
+
+  private EmptyImmutableDto(EmptyImmutableDto.Builder builder) {
+  }
+
+  /**
+   * This instance is equal to all instances of {@code EmptyImmutableDto} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof EmptyImmutableDto
+        && equalTo((EmptyImmutableDto) another);
+  }
+
+  private boolean equalTo(EmptyImmutableDto another) {
+    return true;
+  }
+
+  /**
+   * Returns a constant hash code value.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return 919713776;
+  }
+
+  /**
+   * Prints the immutable value {@code EmptyImmutableDto}.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return "EmptyImmutableDto{}";
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractEmptyImmutableDto} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable EmptyImmutableDto instance
+   */
+  static EmptyImmutableDto copyOf(ConstructorArgMarshallerImmutableTest.AbstractEmptyImmutableDto instance) {
+    if (instance instanceof EmptyImmutableDto) {
+      return (EmptyImmutableDto) instance;
+    }
+    return EmptyImmutableDto.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link EmptyImmutableDto EmptyImmutableDto}.
+   * @return A new EmptyImmutableDto builder
+   */
+  public static EmptyImmutableDto.Builder builder() {
+    return new EmptyImmutableDto.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link EmptyImmutableDto EmptyImmutableDto}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code EmptyImmutableDto} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(EmptyImmutableDto instance) {
+      return from((ConstructorArgMarshallerImmutableTest.AbstractEmptyImmutableDto) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractEmptyImmutableDto} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractEmptyImmutableDto instance) {
+      Objects.requireNonNull(instance, "instance");
+      return this;
+    }
+
+    /**
+     * Builds a new {@link EmptyImmutableDto EmptyImmutableDto}.
+     * @return An immutable instance of EmptyImmutableDto
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public EmptyImmutableDto build() {
+      return new EmptyImmutableDto(this);
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ConstructorArgMarshallerImmutableTest.AbstractInheritsFromHasDefaultMethod}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code InheritsFromHasDefaultMethod.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ConstructorArgMarshallerImmutableTest.AbstractInheritsFromHasDefaultMethod"})
+@Immutable
+public final class InheritsFromHasDefaultMethod
+    implements ConstructorArgMarshallerImmutableTest.AbstractInheritsFromHasDefaultMethod {
+  private final String string;
+
+  private InheritsFromHasDefaultMethod(InheritsFromHasDefaultMethod.Builder builder) {
+    this.string = builder.string != null
+        ? builder.string
+        : Objects.requireNonNull(ConstructorArgMarshallerImmutableTest.AbstractInheritsFromHasDefaultMethod.super.getString(), "string");
+  }
+
+  private InheritsFromHasDefaultMethod(String string) {
+    this.string = string;
+  }
+
+  /**
+   * @return The value of the {@code string} attribute
+   */
+  @Override
+  public String getString() {
+    return string;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ConstructorArgMarshallerImmutableTest.AbstractInheritsFromHasDefaultMethod#getString() string} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for string
+   * @return A modified copy of the {@code this} object
+   */
+  public final InheritsFromHasDefaultMethod withString(String value) {
+    if (this.string.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "string");
+    return new InheritsFromHasDefaultMethod(newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code InheritsFromHasDefaultMethod} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof InheritsFromHasDefaultMethod
+        && equalTo((InheritsFromHasDefaultMethod) another);
+  }
+
+  private boolean equalTo(InheritsFromHasDefaultMethod another) {
+    return string.equals(another.string);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code string}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + string.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code InheritsFromHasDefaultMethod} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("InheritsFromHasDefaultMethod")
+        .omitNullValues()
+        .add("string", string)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ConstructorArgMarshallerImmutableTest.AbstractInheritsFromHasDefaultMethod} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable InheritsFromHasDefaultMethod instance
+   */
+  static InheritsFromHasDefaultMethod copyOf(ConstructorArgMarshallerImmutableTest.AbstractInheritsFromHasDefaultMethod instance) {
+    if (instance instanceof InheritsFromHasDefaultMethod) {
+      return (InheritsFromHasDefaultMethod) instance;
+    }
+    return InheritsFromHasDefaultMethod.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link InheritsFromHasDefaultMethod InheritsFromHasDefaultMethod}.
+   * @return A new InheritsFromHasDefaultMethod builder
+   */
+  public static InheritsFromHasDefaultMethod.Builder builder() {
+    return new InheritsFromHasDefaultMethod.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link InheritsFromHasDefaultMethod InheritsFromHasDefaultMethod}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable String string;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.coercer.ConstructorArgMarshallerImmutableTest.HasDefaultMethod} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ConstructorArgMarshallerImmutableTest.HasDefaultMethod instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code InheritsFromHasDefaultMethod} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(InheritsFromHasDefaultMethod instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractInheritsFromHasDefaultMethod} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ConstructorArgMarshallerImmutableTest.AbstractInheritsFromHasDefaultMethod instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof ConstructorArgMarshallerImmutableTest.HasDefaultMethod) {
+        ConstructorArgMarshallerImmutableTest.HasDefaultMethod instance = (ConstructorArgMarshallerImmutableTest.HasDefaultMethod) object;
+        setString(instance.getString());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link ConstructorArgMarshallerImmutableTest.AbstractInheritsFromHasDefaultMethod#getString() string} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ConstructorArgMarshallerImmutableTest.AbstractInheritsFromHasDefaultMethod#getString() string}.</em>
+     * @param string The value for string 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setString(String string) {
+      this.string = Objects.requireNonNull(string, "string");
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link InheritsFromHasDefaultMethod InheritsFromHasDefaultMethod}.
+     * @return An immutable instance of InheritsFromHasDefaultMethod
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public InheritsFromHasDefaultMethod build() {
+      return new InheritsFromHasDefaultMethod(this);
+    }
+  }
+}
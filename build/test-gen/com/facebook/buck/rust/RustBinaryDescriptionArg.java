@@ -0,0 +1,1474 @@
+package com.facebook.buck.rust;
+
+import com.facebook.buck.cxx.toolchain.linker.Linker;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasSrcs;
+import com.facebook.buck.rules.HasTests;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code RustBinaryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "RustBinaryDescription.AbstractRustBinaryDescriptionArg"})
+@Immutable
+public final class RustBinaryDescriptionArg
+    implements RustBinaryDescription.AbstractRustBinaryDescriptionArg {
+  private final ImmutableSortedSet<String> features;
+  private final ImmutableList<String> rustcFlags;
+  private final ImmutableList<String> linkerFlags;
+  private final @Nullable Linker.LinkableDepType linkStyle;
+  private final @Nullable String crate;
+  private final @Nullable SourcePath crateRoot;
+  private final boolean rpath;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<SourcePath> srcs;
+  private final ImmutableSortedSet<BuildTarget> tests;
+
+  private RustBinaryDescriptionArg(RustBinaryDescriptionArg.Builder builder) {
+    this.features = builder.features.build();
+    this.rustcFlags = builder.rustcFlags.build();
+    this.linkerFlags = builder.linkerFlags.build();
+    this.linkStyle = builder.linkStyle;
+    this.crate = builder.crate;
+    this.crateRoot = builder.crateRoot;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.srcs = builder.srcs.build();
+    this.tests = builder.tests.build();
+    this.rpath = builder.rpathIsSet()
+        ? builder.rpath
+        : RustBinaryDescription.AbstractRustBinaryDescriptionArg.super.isRpath();
+  }
+
+  private RustBinaryDescriptionArg(
+      ImmutableSortedSet<String> features,
+      ImmutableList<String> rustcFlags,
+      ImmutableList<String> linkerFlags,
+      @Nullable Linker.LinkableDepType linkStyle,
+      @Nullable String crate,
+      @Nullable SourcePath crateRoot,
+      boolean rpath,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<SourcePath> srcs,
+      ImmutableSortedSet<BuildTarget> tests) {
+    this.features = features;
+    this.rustcFlags = rustcFlags;
+    this.linkerFlags = linkerFlags;
+    this.linkStyle = linkStyle;
+    this.crate = crate;
+    this.crateRoot = crateRoot;
+    this.rpath = rpath;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.srcs = srcs;
+    this.tests = tests;
+  }
+
+  /**
+   * @return The value of the {@code features} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getFeatures() {
+    return features;
+  }
+
+  /**
+   * @return The value of the {@code rustcFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getRustcFlags() {
+    return rustcFlags;
+  }
+
+  /**
+   * @return The value of the {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code linkStyle} attribute
+   */
+  @Override
+  public Optional<Linker.LinkableDepType> getLinkStyle() {
+    return Optional.ofNullable(linkStyle);
+  }
+
+  /**
+   * @return The value of the {@code crate} attribute
+   */
+  @Override
+  public Optional<String> getCrate() {
+    return Optional.ofNullable(crate);
+  }
+
+  /**
+   * @return The value of the {@code crateRoot} attribute
+   */
+  @Override
+  public Optional<SourcePath> getCrateRoot() {
+    return Optional.ofNullable(crateRoot);
+  }
+
+  /**
+   * @return The value of the {@code rpath} attribute
+   */
+  @Override
+  public boolean isRpath() {
+    return rpath;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getFeatures() features}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withFeatures(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new RustBinaryDescriptionArg(
+        newValue,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getFeatures() features}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of features elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withFeatures(Iterable<String> elements) {
+    if (this.features == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new RustBinaryDescriptionArg(
+        newValue,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getRustcFlags() rustcFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withRustcFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RustBinaryDescriptionArg(
+        this.features,
+        newValue,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getRustcFlags() rustcFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of rustcFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withRustcFlags(Iterable<String> elements) {
+    if (this.rustcFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RustBinaryDescriptionArg(
+        this.features,
+        newValue,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLinkerFlags() linkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withLinkerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        newValue,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLinkerFlags() linkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of linkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withLinkerFlags(Iterable<String> elements) {
+    if (this.linkerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        newValue,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLinkStyle() linkStyle} attribute.
+   * @param value The value for linkStyle
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withLinkStyle(Linker.LinkableDepType value) {
+    @Nullable Linker.LinkableDepType newValue = Objects.requireNonNull(value, "linkStyle");
+    if (this.linkStyle == newValue) return this;
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        newValue,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLinkStyle() linkStyle} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for linkStyle
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withLinkStyle(Optional<? extends Linker.LinkableDepType> optional) {
+    @Nullable Linker.LinkableDepType value = optional.orElse(null);
+    if (Objects.equals(this.linkStyle, value)) return this;
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        value,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getCrate() crate} attribute.
+   * @param value The value for crate
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withCrate(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "crate");
+    if (Objects.equals(this.crate, newValue)) return this;
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        newValue,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getCrate() crate} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for crate
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withCrate(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.crate, value)) return this;
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        value,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getCrateRoot() crateRoot} attribute.
+   * @param value The value for crateRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withCrateRoot(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "crateRoot");
+    if (this.crateRoot == newValue) return this;
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        newValue,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getCrateRoot() crateRoot} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for crateRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withCrateRoot(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.crateRoot == value) return this;
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        value,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#isRpath() rpath} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for rpath
+   * @return A modified copy of the {@code this} object
+   */
+  public final RustBinaryDescriptionArg withRpath(boolean value) {
+    if (this.rpath == value) return this;
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final RustBinaryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withSrcs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withSrcs(Iterable<? extends SourcePath> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getTests() tests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getTests() tests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of tests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustBinaryDescriptionArg withTests(Iterable<? extends BuildTarget> elements) {
+    if (this.tests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new RustBinaryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.linkerFlags,
+        this.linkStyle,
+        this.crate,
+        this.crateRoot,
+        this.rpath,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RustBinaryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RustBinaryDescriptionArg
+        && equalTo((RustBinaryDescriptionArg) another);
+  }
+
+  private boolean equalTo(RustBinaryDescriptionArg another) {
+    return features.equals(another.features)
+        && rustcFlags.equals(another.rustcFlags)
+        && linkerFlags.equals(another.linkerFlags)
+        && Objects.equals(linkStyle, another.linkStyle)
+        && Objects.equals(crate, another.crate)
+        && Objects.equals(crateRoot, another.crateRoot)
+        && rpath == another.rpath
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && srcs.equals(another.srcs)
+        && tests.equals(another.tests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code features}, {@code rustcFlags}, {@code linkerFlags}, {@code linkStyle}, {@code crate}, {@code crateRoot}, {@code rpath}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code srcs}, {@code tests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + features.hashCode();
+    h += (h << 5) + rustcFlags.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(linkStyle);
+    h += (h << 5) + Objects.hashCode(crate);
+    h += (h << 5) + Objects.hashCode(crateRoot);
+    h += (h << 5) + Booleans.hashCode(rpath);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + tests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RustBinaryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RustBinaryDescriptionArg")
+        .omitNullValues()
+        .add("features", features)
+        .add("rustcFlags", rustcFlags)
+        .add("linkerFlags", linkerFlags)
+        .add("linkStyle", linkStyle)
+        .add("crate", crate)
+        .add("crateRoot", crateRoot)
+        .add("rpath", rpath)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("srcs", srcs)
+        .add("tests", tests)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable RustBinaryDescriptionArg instance
+   */
+  static RustBinaryDescriptionArg copyOf(RustBinaryDescription.AbstractRustBinaryDescriptionArg instance) {
+    if (instance instanceof RustBinaryDescriptionArg) {
+      return (RustBinaryDescriptionArg) instance;
+    }
+    return RustBinaryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link RustBinaryDescriptionArg RustBinaryDescriptionArg}.
+   * @return A new RustBinaryDescriptionArg builder
+   */
+  public static RustBinaryDescriptionArg.Builder builder() {
+    return new RustBinaryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link RustBinaryDescriptionArg RustBinaryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_RPATH = 0x1L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private ImmutableSortedSet.Builder<String> features = ImmutableSortedSet.naturalOrder();
+    private ImmutableList.Builder<String> rustcFlags = ImmutableList.builder();
+    private ImmutableList.Builder<String> linkerFlags = ImmutableList.builder();
+    private @Nullable Linker.LinkableDepType linkStyle;
+    private @Nullable String crate;
+    private @Nullable SourcePath crateRoot;
+    private boolean rpath;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RustBinaryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(RustBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractRustBinaryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(RustBinaryDescription.AbstractRustBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasSrcs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasSrcs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof RustBinaryDescription.AbstractRustBinaryDescriptionArg) {
+        RustBinaryDescription.AbstractRustBinaryDescriptionArg instance = (RustBinaryDescription.AbstractRustBinaryDescriptionArg) object;
+        addAllFeatures(instance.getFeatures());
+        Optional<Linker.LinkableDepType> linkStyleOptional = instance.getLinkStyle();
+        if (linkStyleOptional.isPresent()) {
+          setLinkStyle(linkStyleOptional);
+        }
+        Optional<SourcePath> crateRootOptional = instance.getCrateRoot();
+        if (crateRootOptional.isPresent()) {
+          setCrateRoot(crateRootOptional);
+        }
+        addAllRustcFlags(instance.getRustcFlags());
+        addAllLinkerFlags(instance.getLinkerFlags());
+        Optional<String> crateOptional = instance.getCrate();
+        if (crateOptional.isPresent()) {
+          setCrate(crateOptional);
+        }
+        setRpath(instance.isRpath());
+      }
+      if (object instanceof HasSrcs) {
+        HasSrcs instance = (HasSrcs) object;
+        addAllSrcs(instance.getSrcs());
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Adds one element to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getFeatures() features} sortedSet.
+     * @param element A features element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFeatures(String element) {
+      this.features.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getFeatures() features} sortedSet.
+     * @param elements An array of features elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFeatures(String... elements) {
+      this.features.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getFeatures() features} sortedSet.
+     * @param elements An iterable of features elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFeatures(Iterable<String> elements) {
+      this.features = ImmutableSortedSet.naturalOrder();
+      return addAllFeatures(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getFeatures() features} sortedSet.
+     * @param elements An iterable of features elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllFeatures(Iterable<String> elements) {
+      this.features.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getRustcFlags() rustcFlags} list.
+     * @param element A rustcFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRustcFlags(String element) {
+      this.rustcFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getRustcFlags() rustcFlags} list.
+     * @param elements An array of rustcFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRustcFlags(String... elements) {
+      this.rustcFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getRustcFlags() rustcFlags} list.
+     * @param elements An iterable of rustcFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRustcFlags(Iterable<String> elements) {
+      this.rustcFlags = ImmutableList.builder();
+      return addAllRustcFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getRustcFlags() rustcFlags} list.
+     * @param elements An iterable of rustcFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllRustcFlags(Iterable<String> elements) {
+      this.rustcFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLinkStyle() linkStyle} to linkStyle.
+     * @param linkStyle The value for linkStyle
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLinkStyle(Linker.LinkableDepType linkStyle) {
+      this.linkStyle = Objects.requireNonNull(linkStyle, "linkStyle");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLinkStyle() linkStyle} to linkStyle.
+     * @param linkStyle The value for linkStyle
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkStyle(Optional<? extends Linker.LinkableDepType> linkStyle) {
+      this.linkStyle = linkStyle.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getCrate() crate} to crate.
+     * @param crate The value for crate
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCrate(String crate) {
+      this.crate = Objects.requireNonNull(crate, "crate");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getCrate() crate} to crate.
+     * @param crate The value for crate
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCrate(Optional<String> crate) {
+      this.crate = crate.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getCrateRoot() crateRoot} to crateRoot.
+     * @param crateRoot The value for crateRoot
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCrateRoot(SourcePath crateRoot) {
+      this.crateRoot = Objects.requireNonNull(crateRoot, "crateRoot");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getCrateRoot() crateRoot} to crateRoot.
+     * @param crateRoot The value for crateRoot
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCrateRoot(Optional<? extends SourcePath> crateRoot) {
+      this.crateRoot = crateRoot.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#isRpath() rpath} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#isRpath() rpath}.</em>
+     * @param rpath The value for rpath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRpath(boolean rpath) {
+      this.rpath = rpath;
+      optBits |= OPT_BIT_RPATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustBinaryDescription.AbstractRustBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link RustBinaryDescriptionArg RustBinaryDescriptionArg}.
+     * @return An immutable instance of RustBinaryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RustBinaryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new RustBinaryDescriptionArg(this);
+    }
+
+    private boolean rpathIsSet() {
+      return (optBits & OPT_BIT_RPATH) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build RustBinaryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
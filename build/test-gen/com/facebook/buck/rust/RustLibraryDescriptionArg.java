@@ -0,0 +1,1232 @@
+package com.facebook.buck.rust;
+
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasSrcs;
+import com.facebook.buck.rules.HasTests;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code RustLibraryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "RustLibraryDescription.AbstractRustLibraryDescriptionArg"})
+@Immutable
+public final class RustLibraryDescriptionArg
+    implements RustLibraryDescription.AbstractRustLibraryDescriptionArg {
+  private final ImmutableSortedSet<String> features;
+  private final ImmutableList<String> rustcFlags;
+  private final NativeLinkable.Linkage preferredLinkage;
+  private final @Nullable String crate;
+  private final @Nullable SourcePath crateRoot;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<SourcePath> srcs;
+  private final ImmutableSortedSet<BuildTarget> tests;
+
+  private RustLibraryDescriptionArg(RustLibraryDescriptionArg.Builder builder) {
+    this.features = builder.features.build();
+    this.rustcFlags = builder.rustcFlags.build();
+    this.crate = builder.crate;
+    this.crateRoot = builder.crateRoot;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.srcs = builder.srcs.build();
+    this.tests = builder.tests.build();
+    this.preferredLinkage = builder.preferredLinkage != null
+        ? builder.preferredLinkage
+        : Objects.requireNonNull(RustLibraryDescription.AbstractRustLibraryDescriptionArg.super.getPreferredLinkage(), "preferredLinkage");
+  }
+
+  private RustLibraryDescriptionArg(
+      ImmutableSortedSet<String> features,
+      ImmutableList<String> rustcFlags,
+      NativeLinkable.Linkage preferredLinkage,
+      @Nullable String crate,
+      @Nullable SourcePath crateRoot,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<SourcePath> srcs,
+      ImmutableSortedSet<BuildTarget> tests) {
+    this.features = features;
+    this.rustcFlags = rustcFlags;
+    this.preferredLinkage = preferredLinkage;
+    this.crate = crate;
+    this.crateRoot = crateRoot;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.deps = deps;
+    this.srcs = srcs;
+    this.tests = tests;
+  }
+
+  /**
+   * @return The value of the {@code features} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getFeatures() {
+    return features;
+  }
+
+  /**
+   * @return The value of the {@code rustcFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getRustcFlags() {
+    return rustcFlags;
+  }
+
+  /**
+   * @return The value of the {@code preferredLinkage} attribute
+   */
+  @Override
+  public NativeLinkable.Linkage getPreferredLinkage() {
+    return preferredLinkage;
+  }
+
+  /**
+   * @return The value of the {@code crate} attribute
+   */
+  @Override
+  public Optional<String> getCrate() {
+    return Optional.ofNullable(crate);
+  }
+
+  /**
+   * @return The value of the {@code crateRoot} attribute
+   */
+  @Override
+  public Optional<SourcePath> getCrateRoot() {
+    return Optional.ofNullable(crateRoot);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getFeatures() features}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withFeatures(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new RustLibraryDescriptionArg(
+        newValue,
+        this.rustcFlags,
+        this.preferredLinkage,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getFeatures() features}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of features elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withFeatures(Iterable<String> elements) {
+    if (this.features == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new RustLibraryDescriptionArg(
+        newValue,
+        this.rustcFlags,
+        this.preferredLinkage,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getRustcFlags() rustcFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withRustcFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RustLibraryDescriptionArg(
+        this.features,
+        newValue,
+        this.preferredLinkage,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getRustcFlags() rustcFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of rustcFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withRustcFlags(Iterable<String> elements) {
+    if (this.rustcFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new RustLibraryDescriptionArg(
+        this.features,
+        newValue,
+        this.preferredLinkage,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getPreferredLinkage() preferredLinkage} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for preferredLinkage
+   * @return A modified copy of the {@code this} object
+   */
+  public final RustLibraryDescriptionArg withPreferredLinkage(NativeLinkable.Linkage value) {
+    if (this.preferredLinkage == value) return this;
+    NativeLinkable.Linkage newValue = Objects.requireNonNull(value, "preferredLinkage");
+    return new RustLibraryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        newValue,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getCrate() crate} attribute.
+   * @param value The value for crate
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withCrate(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "crate");
+    if (Objects.equals(this.crate, newValue)) return this;
+    return new RustLibraryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.preferredLinkage,
+        newValue,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getCrate() crate} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for crate
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withCrate(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.crate, value)) return this;
+    return new RustLibraryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.preferredLinkage,
+        value,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getCrateRoot() crateRoot} attribute.
+   * @param value The value for crateRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withCrateRoot(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "crateRoot");
+    if (this.crateRoot == newValue) return this;
+    return new RustLibraryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.preferredLinkage,
+        this.crate,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getCrateRoot() crateRoot} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for crateRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withCrateRoot(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.crateRoot == value) return this;
+    return new RustLibraryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.preferredLinkage,
+        this.crate,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final RustLibraryDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new RustLibraryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.preferredLinkage,
+        this.crate,
+        this.crateRoot,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new RustLibraryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.preferredLinkage,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new RustLibraryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.preferredLinkage,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        newValue,
+        this.labels,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new RustLibraryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.preferredLinkage,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new RustLibraryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.preferredLinkage,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        newValue,
+        this.deps,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new RustLibraryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.preferredLinkage,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new RustLibraryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.preferredLinkage,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.srcs,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withSrcs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return new RustLibraryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.preferredLinkage,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withSrcs(Iterable<? extends SourcePath> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return new RustLibraryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.preferredLinkage,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        newValue,
+        this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getTests() tests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new RustLibraryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.preferredLinkage,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getTests() tests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of tests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RustLibraryDescriptionArg withTests(Iterable<? extends BuildTarget> elements) {
+    if (this.tests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new RustLibraryDescriptionArg(
+        this.features,
+        this.rustcFlags,
+        this.preferredLinkage,
+        this.crate,
+        this.crateRoot,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.deps,
+        this.srcs,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RustLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RustLibraryDescriptionArg
+        && equalTo((RustLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(RustLibraryDescriptionArg another) {
+    return features.equals(another.features)
+        && rustcFlags.equals(another.rustcFlags)
+        && preferredLinkage.equals(another.preferredLinkage)
+        && Objects.equals(crate, another.crate)
+        && Objects.equals(crateRoot, another.crateRoot)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && srcs.equals(another.srcs)
+        && tests.equals(another.tests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code features}, {@code rustcFlags}, {@code preferredLinkage}, {@code crate}, {@code crateRoot}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code srcs}, {@code tests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + features.hashCode();
+    h += (h << 5) + rustcFlags.hashCode();
+    h += (h << 5) + preferredLinkage.hashCode();
+    h += (h << 5) + Objects.hashCode(crate);
+    h += (h << 5) + Objects.hashCode(crateRoot);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + tests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RustLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RustLibraryDescriptionArg")
+        .omitNullValues()
+        .add("features", features)
+        .add("rustcFlags", rustcFlags)
+        .add("preferredLinkage", preferredLinkage)
+        .add("crate", crate)
+        .add("crateRoot", crateRoot)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("srcs", srcs)
+        .add("tests", tests)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable RustLibraryDescriptionArg instance
+   */
+  static RustLibraryDescriptionArg copyOf(RustLibraryDescription.AbstractRustLibraryDescriptionArg instance) {
+    if (instance instanceof RustLibraryDescriptionArg) {
+      return (RustLibraryDescriptionArg) instance;
+    }
+    return RustLibraryDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link RustLibraryDescriptionArg RustLibraryDescriptionArg}.
+   * @return A new RustLibraryDescriptionArg builder
+   */
+  public static RustLibraryDescriptionArg.Builder builder() {
+    return new RustLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link RustLibraryDescriptionArg RustLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableSortedSet.Builder<String> features = ImmutableSortedSet.naturalOrder();
+    private ImmutableList.Builder<String> rustcFlags = ImmutableList.builder();
+    private @Nullable NativeLinkable.Linkage preferredLinkage;
+    private @Nullable String crate;
+    private @Nullable SourcePath crateRoot;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RustLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(RustLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractRustLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(RustLibraryDescription.AbstractRustLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasSrcs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasSrcs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof RustLibraryDescription.AbstractRustLibraryDescriptionArg) {
+        RustLibraryDescription.AbstractRustLibraryDescriptionArg instance = (RustLibraryDescription.AbstractRustLibraryDescriptionArg) object;
+        addAllFeatures(instance.getFeatures());
+        addAllRustcFlags(instance.getRustcFlags());
+        Optional<String> crateOptional = instance.getCrate();
+        if (crateOptional.isPresent()) {
+          setCrate(crateOptional);
+        }
+        Optional<SourcePath> crateRootOptional = instance.getCrateRoot();
+        if (crateRootOptional.isPresent()) {
+          setCrateRoot(crateRootOptional);
+        }
+        setPreferredLinkage(instance.getPreferredLinkage());
+      }
+      if (object instanceof HasSrcs) {
+        HasSrcs instance = (HasSrcs) object;
+        addAllSrcs(instance.getSrcs());
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Adds one element to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getFeatures() features} sortedSet.
+     * @param element A features element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFeatures(String element) {
+      this.features.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getFeatures() features} sortedSet.
+     * @param elements An array of features elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFeatures(String... elements) {
+      this.features.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getFeatures() features} sortedSet.
+     * @param elements An iterable of features elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFeatures(Iterable<String> elements) {
+      this.features = ImmutableSortedSet.naturalOrder();
+      return addAllFeatures(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getFeatures() features} sortedSet.
+     * @param elements An iterable of features elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllFeatures(Iterable<String> elements) {
+      this.features.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getRustcFlags() rustcFlags} list.
+     * @param element A rustcFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRustcFlags(String element) {
+      this.rustcFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getRustcFlags() rustcFlags} list.
+     * @param elements An array of rustcFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRustcFlags(String... elements) {
+      this.rustcFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getRustcFlags() rustcFlags} list.
+     * @param elements An iterable of rustcFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRustcFlags(Iterable<String> elements) {
+      this.rustcFlags = ImmutableList.builder();
+      return addAllRustcFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getRustcFlags() rustcFlags} list.
+     * @param elements An iterable of rustcFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllRustcFlags(Iterable<String> elements) {
+      this.rustcFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getPreferredLinkage() preferredLinkage} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getPreferredLinkage() preferredLinkage}.</em>
+     * @param preferredLinkage The value for preferredLinkage 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPreferredLinkage(NativeLinkable.Linkage preferredLinkage) {
+      this.preferredLinkage = Objects.requireNonNull(preferredLinkage, "preferredLinkage");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getCrate() crate} to crate.
+     * @param crate The value for crate
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCrate(String crate) {
+      this.crate = Objects.requireNonNull(crate, "crate");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getCrate() crate} to crate.
+     * @param crate The value for crate
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCrate(Optional<String> crate) {
+      this.crate = crate.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getCrateRoot() crateRoot} to crateRoot.
+     * @param crateRoot The value for crateRoot
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCrateRoot(SourcePath crateRoot) {
+      this.crateRoot = Objects.requireNonNull(crateRoot, "crateRoot");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getCrateRoot() crateRoot} to crateRoot.
+     * @param crateRoot The value for crateRoot
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCrateRoot(Optional<? extends SourcePath> crateRoot) {
+      this.crateRoot = crateRoot.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link RustLibraryDescription.AbstractRustLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link RustLibraryDescriptionArg RustLibraryDescriptionArg}.
+     * @return An immutable instance of RustLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RustLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new RustLibraryDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build RustLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,1323 @@
+package com.facebook.buck.shell;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasContacts;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasTestTimeout;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ShTestDescription.AbstractShTestDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ShTestDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ShTestDescription.AbstractShTestDescriptionArg"})
+@Immutable
+public final class ShTestDescriptionArg
+    implements ShTestDescription.AbstractShTestDescriptionArg {
+  private final @Nullable SourcePath test;
+  private final ImmutableList<String> args;
+  private final @Nullable String type;
+  private final boolean runTestSeparately;
+  private final ImmutableSortedSet<Path> resources;
+  private final ImmutableMap<String, String> env;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<String> contacts;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final @Nullable Long testRuleTimeoutMs;
+
+  private ShTestDescriptionArg(ShTestDescriptionArg.Builder builder) {
+    this.test = builder.test;
+    this.args = builder.args.build();
+    this.type = builder.type;
+    this.resources = builder.resources.build();
+    this.env = builder.env.build();
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.contacts = builder.contacts.build();
+    this.deps = builder.deps.build();
+    this.testRuleTimeoutMs = builder.testRuleTimeoutMs;
+    this.runTestSeparately = builder.runTestSeparatelyIsSet()
+        ? builder.runTestSeparately
+        : ShTestDescription.AbstractShTestDescriptionArg.super.getRunTestSeparately();
+  }
+
+  private ShTestDescriptionArg(
+      @Nullable SourcePath test,
+      ImmutableList<String> args,
+      @Nullable String type,
+      boolean runTestSeparately,
+      ImmutableSortedSet<Path> resources,
+      ImmutableMap<String, String> env,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      ImmutableSortedSet<String> contacts,
+      ImmutableSortedSet<BuildTarget> deps,
+      @Nullable Long testRuleTimeoutMs) {
+    this.test = test;
+    this.args = args;
+    this.type = type;
+    this.runTestSeparately = runTestSeparately;
+    this.resources = resources;
+    this.env = env;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.contacts = contacts;
+    this.deps = deps;
+    this.testRuleTimeoutMs = testRuleTimeoutMs;
+  }
+
+  /**
+   * @return The value of the {@code test} attribute
+   */
+  @Override
+  public Optional<SourcePath> getTest() {
+    return Optional.ofNullable(test);
+  }
+
+  /**
+   * @return The value of the {@code args} attribute
+   */
+  @Override
+  public ImmutableList<String> getArgs() {
+    return args;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public Optional<String> getType() {
+    return Optional.ofNullable(type);
+  }
+
+  /**
+   * @return The value of the {@code runTestSeparately} attribute
+   */
+  @Override
+  public boolean getRunTestSeparately() {
+    return runTestSeparately;
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Path> getResources() {
+    return resources;
+  }
+
+  /**
+   * @return The value of the {@code env} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnv() {
+    return env;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code contacts} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getContacts() {
+    return contacts;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code testRuleTimeoutMs} attribute
+   */
+  @Override
+  public Optional<Long> getTestRuleTimeoutMs() {
+    return Optional.ofNullable(testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ShTestDescription.AbstractShTestDescriptionArg#getTest() test} attribute.
+   * @param value The value for test
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withTest(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "test");
+    if (this.test == newValue) return this;
+    return new ShTestDescriptionArg(
+        newValue,
+        this.args,
+        this.type,
+        this.runTestSeparately,
+        this.resources,
+        this.env,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ShTestDescription.AbstractShTestDescriptionArg#getTest() test} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for test
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withTest(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.test == value) return this;
+    return new ShTestDescriptionArg(
+        value,
+        this.args,
+        this.type,
+        this.runTestSeparately,
+        this.resources,
+        this.env,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ShTestDescription.AbstractShTestDescriptionArg#getArgs() args}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withArgs(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ShTestDescriptionArg(
+        this.test,
+        newValue,
+        this.type,
+        this.runTestSeparately,
+        this.resources,
+        this.env,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ShTestDescription.AbstractShTestDescriptionArg#getArgs() args}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of args elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withArgs(Iterable<String> elements) {
+    if (this.args == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ShTestDescriptionArg(
+        this.test,
+        newValue,
+        this.type,
+        this.runTestSeparately,
+        this.resources,
+        this.env,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ShTestDescription.AbstractShTestDescriptionArg#getType() type} attribute.
+   * @param value The value for type
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withType(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "type");
+    if (Objects.equals(this.type, newValue)) return this;
+    return new ShTestDescriptionArg(
+        this.test,
+        this.args,
+        newValue,
+        this.runTestSeparately,
+        this.resources,
+        this.env,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ShTestDescription.AbstractShTestDescriptionArg#getType() type} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for type
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withType(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.type, value)) return this;
+    return new ShTestDescriptionArg(
+        this.test,
+        this.args,
+        value,
+        this.runTestSeparately,
+        this.resources,
+        this.env,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ShTestDescription.AbstractShTestDescriptionArg#getRunTestSeparately() runTestSeparately} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for runTestSeparately
+   * @return A modified copy of the {@code this} object
+   */
+  public final ShTestDescriptionArg withRunTestSeparately(boolean value) {
+    if (this.runTestSeparately == value) return this;
+    return new ShTestDescriptionArg(
+        this.test,
+        this.args,
+        this.type,
+        value,
+        this.resources,
+        this.env,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ShTestDescription.AbstractShTestDescriptionArg#getResources() resources}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withResources(Path... elements) {
+    ImmutableSortedSet<Path> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<Path>natural(),
+        Arrays.asList(elements));
+    return new ShTestDescriptionArg(
+        this.test,
+        this.args,
+        this.type,
+        this.runTestSeparately,
+        newValue,
+        this.env,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ShTestDescription.AbstractShTestDescriptionArg#getResources() resources}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of resources elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withResources(Iterable<? extends Path> elements) {
+    if (this.resources == elements) return this;
+    ImmutableSortedSet<Path> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<Path>natural(),
+        elements);
+    return new ShTestDescriptionArg(
+        this.test,
+        this.args,
+        this.type,
+        this.runTestSeparately,
+        newValue,
+        this.env,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link ShTestDescription.AbstractShTestDescriptionArg#getEnv() env} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the env map
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withEnv(Map<String, ? extends String> entries) {
+    if (this.env == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new ShTestDescriptionArg(
+        this.test,
+        this.args,
+        this.type,
+        this.runTestSeparately,
+        this.resources,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ShTestDescription.AbstractShTestDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final ShTestDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new ShTestDescriptionArg(
+        this.test,
+        this.args,
+        this.type,
+        this.runTestSeparately,
+        this.resources,
+        this.env,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ShTestDescription.AbstractShTestDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new ShTestDescriptionArg(
+        this.test,
+        this.args,
+        this.type,
+        this.runTestSeparately,
+        this.resources,
+        this.env,
+        this.name,
+        newValue,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ShTestDescription.AbstractShTestDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new ShTestDescriptionArg(
+        this.test,
+        this.args,
+        this.type,
+        this.runTestSeparately,
+        this.resources,
+        this.env,
+        this.name,
+        newValue,
+        this.labels,
+        this.contacts,
+        this.deps,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ShTestDescription.AbstractShTestDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new ShTestDescriptionArg(
+        this.test,
+        this.args,
+        this.type,
+        this.runTestSeparately,
+        this.resources,
+        this.env,
+        this.name,
+        this.licenses,
+        newValue,
+        this.contacts,
+        this.deps,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ShTestDescription.AbstractShTestDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new ShTestDescriptionArg(
+        this.test,
+        this.args,
+        this.type,
+        this.runTestSeparately,
+        this.resources,
+        this.env,
+        this.name,
+        this.licenses,
+        newValue,
+        this.contacts,
+        this.deps,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ShTestDescription.AbstractShTestDescriptionArg#getContacts() contacts}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withContacts(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new ShTestDescriptionArg(
+        this.test,
+        this.args,
+        this.type,
+        this.runTestSeparately,
+        this.resources,
+        this.env,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.deps,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ShTestDescription.AbstractShTestDescriptionArg#getContacts() contacts}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of contacts elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withContacts(Iterable<String> elements) {
+    if (this.contacts == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new ShTestDescriptionArg(
+        this.test,
+        this.args,
+        this.type,
+        this.runTestSeparately,
+        this.resources,
+        this.env,
+        this.name,
+        this.licenses,
+        this.labels,
+        newValue,
+        this.deps,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ShTestDescription.AbstractShTestDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new ShTestDescriptionArg(
+        this.test,
+        this.args,
+        this.type,
+        this.runTestSeparately,
+        this.resources,
+        this.env,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        newValue,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ShTestDescription.AbstractShTestDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new ShTestDescriptionArg(
+        this.test,
+        this.args,
+        this.type,
+        this.runTestSeparately,
+        this.resources,
+        this.env,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        newValue,
+        this.testRuleTimeoutMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ShTestDescription.AbstractShTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} attribute.
+   * @param value The value for testRuleTimeoutMs
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withTestRuleTimeoutMs(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.testRuleTimeoutMs, newValue)) return this;
+    return new ShTestDescriptionArg(
+        this.test,
+        this.args,
+        this.type,
+        this.runTestSeparately,
+        this.resources,
+        this.env,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ShTestDescription.AbstractShTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for testRuleTimeoutMs
+   * @return A modified copy of {@code this} object
+   */
+  public final ShTestDescriptionArg withTestRuleTimeoutMs(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.testRuleTimeoutMs, value)) return this;
+    return new ShTestDescriptionArg(
+        this.test,
+        this.args,
+        this.type,
+        this.runTestSeparately,
+        this.resources,
+        this.env,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.contacts,
+        this.deps,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ShTestDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ShTestDescriptionArg
+        && equalTo((ShTestDescriptionArg) another);
+  }
+
+  private boolean equalTo(ShTestDescriptionArg another) {
+    return Objects.equals(test, another.test)
+        && args.equals(another.args)
+        && Objects.equals(type, another.type)
+        && runTestSeparately == another.runTestSeparately
+        && resources.equals(another.resources)
+        && env.equals(another.env)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && contacts.equals(another.contacts)
+        && deps.equals(another.deps)
+        && Objects.equals(testRuleTimeoutMs, another.testRuleTimeoutMs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code test}, {@code args}, {@code type}, {@code runTestSeparately}, {@code resources}, {@code env}, {@code name}, {@code licenses}, {@code labels}, {@code contacts}, {@code deps}, {@code testRuleTimeoutMs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(test);
+    h += (h << 5) + args.hashCode();
+    h += (h << 5) + Objects.hashCode(type);
+    h += (h << 5) + Booleans.hashCode(runTestSeparately);
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + env.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + contacts.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + Objects.hashCode(testRuleTimeoutMs);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ShTestDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ShTestDescriptionArg")
+        .omitNullValues()
+        .add("test", test)
+        .add("args", args)
+        .add("type", type)
+        .add("runTestSeparately", runTestSeparately)
+        .add("resources", resources)
+        .add("env", env)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("contacts", contacts)
+        .add("deps", deps)
+        .add("testRuleTimeoutMs", testRuleTimeoutMs)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ShTestDescription.AbstractShTestDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ShTestDescriptionArg instance
+   */
+  static ShTestDescriptionArg copyOf(ShTestDescription.AbstractShTestDescriptionArg instance) {
+    if (instance instanceof ShTestDescriptionArg) {
+      return (ShTestDescriptionArg) instance;
+    }
+    return ShTestDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ShTestDescriptionArg ShTestDescriptionArg}.
+   * @return A new ShTestDescriptionArg builder
+   */
+  public static ShTestDescriptionArg.Builder builder() {
+    return new ShTestDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ShTestDescriptionArg ShTestDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_RUN_TEST_SEPARATELY = 0x1L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable SourcePath test;
+    private ImmutableList.Builder<String> args = ImmutableList.builder();
+    private @Nullable String type;
+    private boolean runTestSeparately;
+    private ImmutableSortedSet.Builder<Path> resources = ImmutableSortedSet.naturalOrder();
+    private ImmutableMap.Builder<String, String> env = ImmutableMap.builder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<String> contacts = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private @Nullable Long testRuleTimeoutMs;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasContacts} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasContacts instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTestTimeout} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTestTimeout instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ShTestDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ShTestDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractShTestDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ShTestDescription.AbstractShTestDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasContacts) {
+        HasContacts instance = (HasContacts) object;
+        addAllContacts(instance.getContacts());
+      }
+      if (object instanceof HasTestTimeout) {
+        HasTestTimeout instance = (HasTestTimeout) object;
+        Optional<Long> testRuleTimeoutMsOptional = instance.getTestRuleTimeoutMs();
+        if (testRuleTimeoutMsOptional.isPresent()) {
+          setTestRuleTimeoutMs(testRuleTimeoutMsOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof ShTestDescription.AbstractShTestDescriptionArg) {
+        ShTestDescription.AbstractShTestDescriptionArg instance = (ShTestDescription.AbstractShTestDescriptionArg) object;
+        addAllArgs(instance.getArgs());
+        addAllResources(instance.getResources());
+        Optional<SourcePath> testOptional = instance.getTest();
+        if (testOptional.isPresent()) {
+          setTest(testOptional);
+        }
+        Optional<String> typeOptional = instance.getType();
+        if (typeOptional.isPresent()) {
+          setType(typeOptional);
+        }
+        putAllEnv(instance.getEnv());
+        setRunTestSeparately(instance.getRunTestSeparately());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link ShTestDescription.AbstractShTestDescriptionArg#getTest() test} to test.
+     * @param test The value for test
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTest(SourcePath test) {
+      this.test = Objects.requireNonNull(test, "test");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ShTestDescription.AbstractShTestDescriptionArg#getTest() test} to test.
+     * @param test The value for test
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTest(Optional<? extends SourcePath> test) {
+      this.test = test.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ShTestDescription.AbstractShTestDescriptionArg#getArgs() args} list.
+     * @param element A args element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addArgs(String element) {
+      this.args.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ShTestDescription.AbstractShTestDescriptionArg#getArgs() args} list.
+     * @param elements An array of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addArgs(String... elements) {
+      this.args.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ShTestDescription.AbstractShTestDescriptionArg#getArgs() args} list.
+     * @param elements An iterable of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setArgs(Iterable<String> elements) {
+      this.args = ImmutableList.builder();
+      return addAllArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link ShTestDescription.AbstractShTestDescriptionArg#getArgs() args} list.
+     * @param elements An iterable of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllArgs(Iterable<String> elements) {
+      this.args.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ShTestDescription.AbstractShTestDescriptionArg#getType() type} to type.
+     * @param type The value for type
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setType(String type) {
+      this.type = Objects.requireNonNull(type, "type");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ShTestDescription.AbstractShTestDescriptionArg#getType() type} to type.
+     * @param type The value for type
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setType(Optional<String> type) {
+      this.type = type.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ShTestDescription.AbstractShTestDescriptionArg#getRunTestSeparately() runTestSeparately} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ShTestDescription.AbstractShTestDescriptionArg#getRunTestSeparately() runTestSeparately}.</em>
+     * @param runTestSeparately The value for runTestSeparately 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRunTestSeparately(boolean runTestSeparately) {
+      this.runTestSeparately = runTestSeparately;
+      optBits |= OPT_BIT_RUN_TEST_SEPARATELY;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link ShTestDescription.AbstractShTestDescriptionArg#getResources() resources} sortedSet.
+     * @param element A resources element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addResources(Path element) {
+      this.resources.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ShTestDescription.AbstractShTestDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An array of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addResources(Path... elements) {
+      this.resources.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ShTestDescription.AbstractShTestDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An iterable of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResources(Iterable<? extends Path> elements) {
+      this.resources = ImmutableSortedSet.naturalOrder();
+      return addAllResources(elements);
+    }
+
+    /**
+     * Adds elements to {@link ShTestDescription.AbstractShTestDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An iterable of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllResources(Iterable<? extends Path> elements) {
+      this.resources.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ShTestDescription.AbstractShTestDescriptionArg#getEnv() env} map.
+     * @param key The key in the env map
+     * @param value The associated value in the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnv(String key, String value) {
+      this.env.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ShTestDescription.AbstractShTestDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnv(Map.Entry<String, ? extends String> entry) {
+      this.env.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ShTestDescription.AbstractShTestDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param env The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnv(Map<String, ? extends String> env) {
+      this.env = ImmutableMap.builder();
+      return putAllEnv(env);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ShTestDescription.AbstractShTestDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param env The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllEnv(Map<String, ? extends String> env) {
+      this.env.putAll(env);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ShTestDescription.AbstractShTestDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link ShTestDescription.AbstractShTestDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ShTestDescription.AbstractShTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ShTestDescription.AbstractShTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link ShTestDescription.AbstractShTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ShTestDescription.AbstractShTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ShTestDescription.AbstractShTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ShTestDescription.AbstractShTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link ShTestDescription.AbstractShTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ShTestDescription.AbstractShTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param element A contacts element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addContacts(String element) {
+      this.contacts.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ShTestDescription.AbstractShTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An array of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addContacts(String... elements) {
+      this.contacts.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ShTestDescription.AbstractShTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setContacts(Iterable<String> elements) {
+      this.contacts = ImmutableSortedSet.naturalOrder();
+      return addAllContacts(elements);
+    }
+
+    /**
+     * Adds elements to {@link ShTestDescription.AbstractShTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllContacts(Iterable<String> elements) {
+      this.contacts.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ShTestDescription.AbstractShTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ShTestDescription.AbstractShTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ShTestDescription.AbstractShTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link ShTestDescription.AbstractShTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ShTestDescription.AbstractShTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} to testRuleTimeoutMs.
+     * @param testRuleTimeoutMs The value for testRuleTimeoutMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestRuleTimeoutMs(long testRuleTimeoutMs) {
+      this.testRuleTimeoutMs = testRuleTimeoutMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ShTestDescription.AbstractShTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} to testRuleTimeoutMs.
+     * @param testRuleTimeoutMs The value for testRuleTimeoutMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestRuleTimeoutMs(Optional<Long> testRuleTimeoutMs) {
+      this.testRuleTimeoutMs = testRuleTimeoutMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ShTestDescriptionArg ShTestDescriptionArg}.
+     * @return An immutable instance of ShTestDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ShTestDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ShTestDescriptionArg(this);
+    }
+
+    private boolean runTestSeparatelyIsSet() {
+      return (optBits & OPT_BIT_RUN_TEST_SEPARATELY) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build ShTestDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,249 @@
+package com.facebook.buck.timing;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Provides a fake implementation of a {@link Clock} which always returns a constant time. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractFakeClock"})
+@Immutable
+public final class FakeClock extends AbstractFakeClock {
+  private final long currentTimeMillis;
+  private final long nanoTime;
+
+  private FakeClock(long currentTimeMillis, long nanoTime) {
+    this.currentTimeMillis = currentTimeMillis;
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * @return The value of the {@code currentTimeMillis} attribute
+   */
+  @Override
+  public long currentTimeMillis() {
+    return currentTimeMillis;
+  }
+
+  /**
+   * @return The value of the {@code nanoTime} attribute
+   */
+  @Override
+  public long nanoTime() {
+    return nanoTime;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeClock#currentTimeMillis() currentTimeMillis} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for currentTimeMillis
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeClock withCurrentTimeMillis(long value) {
+    if (this.currentTimeMillis == value) return this;
+    return validate(new FakeClock(value, this.nanoTime));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeClock#nanoTime() nanoTime} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for nanoTime
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeClock withNanoTime(long value) {
+    if (this.nanoTime == value) return this;
+    return validate(new FakeClock(this.currentTimeMillis, value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code FakeClock} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof FakeClock
+        && equalTo((FakeClock) another);
+  }
+
+  private boolean equalTo(FakeClock another) {
+    return currentTimeMillis == another.currentTimeMillis
+        && nanoTime == another.nanoTime;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code currentTimeMillis}, {@code nanoTime}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Longs.hashCode(currentTimeMillis);
+    h += (h << 5) + Longs.hashCode(nanoTime);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FakeClock} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FakeClock")
+        .omitNullValues()
+        .add("currentTimeMillis", currentTimeMillis)
+        .add("nanoTime", nanoTime)
+        .toString();
+  }
+
+
+  private static FakeClock validate(FakeClock instance) {
+    instance.checkNanoTimeIsNotDerivedFromCurrentTimeMillis();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractFakeClock} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable FakeClock instance
+   */
+  public static FakeClock copyOf(AbstractFakeClock instance) {
+    if (instance instanceof FakeClock) {
+      return (FakeClock) instance;
+    }
+    return FakeClock.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link FakeClock FakeClock}.
+   * @return A new FakeClock builder
+   */
+  public static FakeClock.Builder builder() {
+    return new FakeClock.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link FakeClock FakeClock}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CURRENT_TIME_MILLIS = 0x1L;
+    private static final long INIT_BIT_NANO_TIME = 0x2L;
+    private long initBits = 0x3L;
+
+    private long currentTimeMillis;
+    private long nanoTime;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.timing.Clock} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(Clock instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.timing.AbstractFakeClock} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AbstractFakeClock instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof Clock) {
+        Clock instance = (Clock) object;
+        if ((bits & 0x1L) == 0) {
+          currentTimeMillis(instance.currentTimeMillis());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          nanoTime(instance.nanoTime());
+          bits |= 0x2L;
+        }
+      }
+      if (object instanceof AbstractFakeClock) {
+        AbstractFakeClock instance = (AbstractFakeClock) object;
+        if ((bits & 0x1L) == 0) {
+          currentTimeMillis(instance.currentTimeMillis());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          nanoTime(instance.nanoTime());
+          bits |= 0x2L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractFakeClock#currentTimeMillis() currentTimeMillis} attribute.
+     * @param currentTimeMillis The value for currentTimeMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder currentTimeMillis(long currentTimeMillis) {
+      this.currentTimeMillis = currentTimeMillis;
+      initBits &= ~INIT_BIT_CURRENT_TIME_MILLIS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractFakeClock#nanoTime() nanoTime} attribute.
+     * @param nanoTime The value for nanoTime 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder nanoTime(long nanoTime) {
+      this.nanoTime = nanoTime;
+      initBits &= ~INIT_BIT_NANO_TIME;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link FakeClock FakeClock}.
+     * @return An immutable instance of FakeClock
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public FakeClock build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return FakeClock.validate(new FakeClock(currentTimeMillis, nanoTime));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CURRENT_TIME_MILLIS) != 0) attributes.add("currentTimeMillis");
+      if ((initBits & INIT_BIT_NANO_TIME) != 0) attributes.add("nanoTime");
+      return "Cannot build FakeClock, some of required attributes are not set " + attributes;
+    }
+  }
+}
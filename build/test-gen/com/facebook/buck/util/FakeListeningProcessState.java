@@ -0,0 +1,494 @@
+package com.facebook.buck.util;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractFakeListeningProcessState}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code FakeListeningProcessState.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractFakeListeningProcessState"})
+@Immutable
+public final class FakeListeningProcessState extends AbstractFakeListeningProcessState {
+  private final AbstractFakeListeningProcessState.Type type;
+  private final @Nullable ByteBuffer expectedStdin;
+  private final @Nullable ByteBuffer stdout;
+  private final @Nullable ByteBuffer stderr;
+  private final @Nullable Long waitNanos;
+  private final @Nullable Integer exitCode;
+
+  private FakeListeningProcessState(
+      AbstractFakeListeningProcessState.Type type,
+      @Nullable ByteBuffer expectedStdin,
+      @Nullable ByteBuffer stdout,
+      @Nullable ByteBuffer stderr,
+      @Nullable Long waitNanos,
+      @Nullable Integer exitCode) {
+    this.type = type;
+    this.expectedStdin = expectedStdin;
+    this.stdout = stdout;
+    this.stderr = stderr;
+    this.waitNanos = waitNanos;
+    this.exitCode = exitCode;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public AbstractFakeListeningProcessState.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code expectedStdin} attribute
+   */
+  @Override
+  public Optional<ByteBuffer> getExpectedStdin() {
+    return Optional.ofNullable(expectedStdin);
+  }
+
+  /**
+   * @return The value of the {@code stdout} attribute
+   */
+  @Override
+  public Optional<ByteBuffer> getStdout() {
+    return Optional.ofNullable(stdout);
+  }
+
+  /**
+   * @return The value of the {@code stderr} attribute
+   */
+  @Override
+  public Optional<ByteBuffer> getStderr() {
+    return Optional.ofNullable(stderr);
+  }
+
+  /**
+   * @return The value of the {@code waitNanos} attribute
+   */
+  @Override
+  public Optional<Long> getWaitNanos() {
+    return Optional.ofNullable(waitNanos);
+  }
+
+  /**
+   * @return The value of the {@code exitCode} attribute
+   */
+  @Override
+  public Optional<Integer> getExitCode() {
+    return Optional.ofNullable(exitCode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeListeningProcessState#getType() type} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeListeningProcessState withType(AbstractFakeListeningProcessState.Type value) {
+    if (this.type == value) return this;
+    AbstractFakeListeningProcessState.Type newValue = Objects.requireNonNull(value, "type");
+    return new FakeListeningProcessState(newValue, this.expectedStdin, this.stdout, this.stderr, this.waitNanos, this.exitCode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractFakeListeningProcessState#getExpectedStdin() expectedStdin} attribute.
+   * @param value The value for expectedStdin
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withExpectedStdin(ByteBuffer value) {
+    @Nullable ByteBuffer newValue = Objects.requireNonNull(value, "expectedStdin");
+    if (this.expectedStdin == newValue) return this;
+    return new FakeListeningProcessState(this.type, newValue, this.stdout, this.stderr, this.waitNanos, this.exitCode);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractFakeListeningProcessState#getExpectedStdin() expectedStdin} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for expectedStdin
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withExpectedStdin(Optional<? extends ByteBuffer> optional) {
+    @Nullable ByteBuffer value = optional.orElse(null);
+    if (this.expectedStdin == value) return this;
+    return new FakeListeningProcessState(this.type, value, this.stdout, this.stderr, this.waitNanos, this.exitCode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractFakeListeningProcessState#getStdout() stdout} attribute.
+   * @param value The value for stdout
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withStdout(ByteBuffer value) {
+    @Nullable ByteBuffer newValue = Objects.requireNonNull(value, "stdout");
+    if (this.stdout == newValue) return this;
+    return new FakeListeningProcessState(this.type, this.expectedStdin, newValue, this.stderr, this.waitNanos, this.exitCode);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractFakeListeningProcessState#getStdout() stdout} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for stdout
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withStdout(Optional<? extends ByteBuffer> optional) {
+    @Nullable ByteBuffer value = optional.orElse(null);
+    if (this.stdout == value) return this;
+    return new FakeListeningProcessState(this.type, this.expectedStdin, value, this.stderr, this.waitNanos, this.exitCode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractFakeListeningProcessState#getStderr() stderr} attribute.
+   * @param value The value for stderr
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withStderr(ByteBuffer value) {
+    @Nullable ByteBuffer newValue = Objects.requireNonNull(value, "stderr");
+    if (this.stderr == newValue) return this;
+    return new FakeListeningProcessState(this.type, this.expectedStdin, this.stdout, newValue, this.waitNanos, this.exitCode);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractFakeListeningProcessState#getStderr() stderr} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for stderr
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withStderr(Optional<? extends ByteBuffer> optional) {
+    @Nullable ByteBuffer value = optional.orElse(null);
+    if (this.stderr == value) return this;
+    return new FakeListeningProcessState(this.type, this.expectedStdin, this.stdout, value, this.waitNanos, this.exitCode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractFakeListeningProcessState#getWaitNanos() waitNanos} attribute.
+   * @param value The value for waitNanos
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withWaitNanos(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.waitNanos, newValue)) return this;
+    return new FakeListeningProcessState(this.type, this.expectedStdin, this.stdout, this.stderr, newValue, this.exitCode);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractFakeListeningProcessState#getWaitNanos() waitNanos} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for waitNanos
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withWaitNanos(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.waitNanos, value)) return this;
+    return new FakeListeningProcessState(this.type, this.expectedStdin, this.stdout, this.stderr, value, this.exitCode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractFakeListeningProcessState#getExitCode() exitCode} attribute.
+   * @param value The value for exitCode
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withExitCode(int value) {
+    @Nullable Integer newValue = value;
+    if (Objects.equals(this.exitCode, newValue)) return this;
+    return new FakeListeningProcessState(this.type, this.expectedStdin, this.stdout, this.stderr, this.waitNanos, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractFakeListeningProcessState#getExitCode() exitCode} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for exitCode
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withExitCode(Optional<Integer> optional) {
+    @Nullable Integer value = optional.orElse(null);
+    if (Objects.equals(this.exitCode, value)) return this;
+    return new FakeListeningProcessState(this.type, this.expectedStdin, this.stdout, this.stderr, this.waitNanos, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code FakeListeningProcessState} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof FakeListeningProcessState
+        && equalTo((FakeListeningProcessState) another);
+  }
+
+  private boolean equalTo(FakeListeningProcessState another) {
+    return type.equals(another.type)
+        && Objects.equals(expectedStdin, another.expectedStdin)
+        && Objects.equals(stdout, another.stdout)
+        && Objects.equals(stderr, another.stderr)
+        && Objects.equals(waitNanos, another.waitNanos)
+        && Objects.equals(exitCode, another.exitCode);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code expectedStdin}, {@code stdout}, {@code stderr}, {@code waitNanos}, {@code exitCode}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + Objects.hashCode(expectedStdin);
+    h += (h << 5) + Objects.hashCode(stdout);
+    h += (h << 5) + Objects.hashCode(stderr);
+    h += (h << 5) + Objects.hashCode(waitNanos);
+    h += (h << 5) + Objects.hashCode(exitCode);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FakeListeningProcessState} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FakeListeningProcessState")
+        .omitNullValues()
+        .add("type", type)
+        .add("expectedStdin", expectedStdin)
+        .add("stdout", stdout)
+        .add("stderr", stderr)
+        .add("waitNanos", waitNanos)
+        .add("exitCode", exitCode)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractFakeListeningProcessState} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable FakeListeningProcessState instance
+   */
+  static FakeListeningProcessState copyOf(AbstractFakeListeningProcessState instance) {
+    if (instance instanceof FakeListeningProcessState) {
+      return (FakeListeningProcessState) instance;
+    }
+    return FakeListeningProcessState.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link FakeListeningProcessState FakeListeningProcessState}.
+   * @return A new FakeListeningProcessState builder
+   */
+  public static FakeListeningProcessState.Builder builder() {
+    return new FakeListeningProcessState.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link FakeListeningProcessState FakeListeningProcessState}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TYPE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable AbstractFakeListeningProcessState.Type type;
+    private @Nullable ByteBuffer expectedStdin;
+    private @Nullable ByteBuffer stdout;
+    private @Nullable ByteBuffer stderr;
+    private @Nullable Long waitNanos;
+    private @Nullable Integer exitCode;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code FakeListeningProcessState} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(FakeListeningProcessState instance) {
+      return from((AbstractFakeListeningProcessState) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractFakeListeningProcessState} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractFakeListeningProcessState instance) {
+      Objects.requireNonNull(instance, "instance");
+      setType(instance.getType());
+      Optional<ByteBuffer> expectedStdinOptional = instance.getExpectedStdin();
+      if (expectedStdinOptional.isPresent()) {
+        setExpectedStdin(expectedStdinOptional);
+      }
+      Optional<ByteBuffer> stdoutOptional = instance.getStdout();
+      if (stdoutOptional.isPresent()) {
+        setStdout(stdoutOptional);
+      }
+      Optional<ByteBuffer> stderrOptional = instance.getStderr();
+      if (stderrOptional.isPresent()) {
+        setStderr(stderrOptional);
+      }
+      Optional<Long> waitNanosOptional = instance.getWaitNanos();
+      if (waitNanosOptional.isPresent()) {
+        setWaitNanos(waitNanosOptional);
+      }
+      Optional<Integer> exitCodeOptional = instance.getExitCode();
+      if (exitCodeOptional.isPresent()) {
+        setExitCode(exitCodeOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractFakeListeningProcessState#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setType(AbstractFakeListeningProcessState.Type type) {
+      this.type = Objects.requireNonNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractFakeListeningProcessState#getExpectedStdin() expectedStdin} to expectedStdin.
+     * @param expectedStdin The value for expectedStdin
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExpectedStdin(ByteBuffer expectedStdin) {
+      this.expectedStdin = Objects.requireNonNull(expectedStdin, "expectedStdin");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFakeListeningProcessState#getExpectedStdin() expectedStdin} to expectedStdin.
+     * @param expectedStdin The value for expectedStdin
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExpectedStdin(Optional<? extends ByteBuffer> expectedStdin) {
+      this.expectedStdin = expectedStdin.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFakeListeningProcessState#getStdout() stdout} to stdout.
+     * @param stdout The value for stdout
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStdout(ByteBuffer stdout) {
+      this.stdout = Objects.requireNonNull(stdout, "stdout");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFakeListeningProcessState#getStdout() stdout} to stdout.
+     * @param stdout The value for stdout
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStdout(Optional<? extends ByteBuffer> stdout) {
+      this.stdout = stdout.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFakeListeningProcessState#getStderr() stderr} to stderr.
+     * @param stderr The value for stderr
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStderr(ByteBuffer stderr) {
+      this.stderr = Objects.requireNonNull(stderr, "stderr");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFakeListeningProcessState#getStderr() stderr} to stderr.
+     * @param stderr The value for stderr
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStderr(Optional<? extends ByteBuffer> stderr) {
+      this.stderr = stderr.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFakeListeningProcessState#getWaitNanos() waitNanos} to waitNanos.
+     * @param waitNanos The value for waitNanos
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setWaitNanos(long waitNanos) {
+      this.waitNanos = waitNanos;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFakeListeningProcessState#getWaitNanos() waitNanos} to waitNanos.
+     * @param waitNanos The value for waitNanos
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWaitNanos(Optional<Long> waitNanos) {
+      this.waitNanos = waitNanos.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFakeListeningProcessState#getExitCode() exitCode} to exitCode.
+     * @param exitCode The value for exitCode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExitCode(int exitCode) {
+      this.exitCode = exitCode;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFakeListeningProcessState#getExitCode() exitCode} to exitCode.
+     * @param exitCode The value for exitCode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExitCode(Optional<Integer> exitCode) {
+      this.exitCode = exitCode.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link FakeListeningProcessState FakeListeningProcessState}.
+     * @return An immutable instance of FakeListeningProcessState
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public FakeListeningProcessState build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new FakeListeningProcessState(type, expectedStdin, stdout, stderr, waitNanos, exitCode);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      return "Cannot build FakeListeningProcessState, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,644 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.HasDeclaredDeps;
+import com.facebook.buck.rules.HasTests;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code VersionPropagatorDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg"})
+@Immutable
+public final class VersionPropagatorDescriptionArg
+    implements VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg {
+  private final ImmutableSortedMap<BuildTarget, Optional<Constraint>> versionedDeps;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSet<SourcePath> licenses;
+  private final String name;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<BuildTarget> tests;
+
+  private VersionPropagatorDescriptionArg(
+      ImmutableSortedMap<BuildTarget, Optional<Constraint>> versionedDeps,
+      ImmutableSortedSet<String> labels,
+      ImmutableSet<SourcePath> licenses,
+      String name,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<BuildTarget> tests) {
+    this.versionedDeps = versionedDeps;
+    this.labels = labels;
+    this.licenses = licenses;
+    this.name = name;
+    this.deps = deps;
+    this.tests = tests;
+  }
+
+  /**
+   * @return The value of the {@code versionedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedMap<BuildTarget, Optional<Constraint>> getVersionedDeps() {
+    return versionedDeps;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code tests} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getVersionedDeps() versionedDeps} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the versionedDeps map
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionPropagatorDescriptionArg withVersionedDeps(Map<? extends BuildTarget, ? extends Optional<Constraint>> entries) {
+    if (this.versionedDeps == entries) return this;
+    ImmutableSortedMap<BuildTarget, Optional<Constraint>> newValue = ImmutableSortedMap.copyOf(entries,
+        Ordering.<BuildTarget>natural()
+    );
+    return new VersionPropagatorDescriptionArg(newValue, this.labels, this.licenses, this.name, this.deps, this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionPropagatorDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new VersionPropagatorDescriptionArg(this.versionedDeps, newValue, this.licenses, this.name, this.deps, this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionPropagatorDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new VersionPropagatorDescriptionArg(this.versionedDeps, newValue, this.licenses, this.name, this.deps, this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionPropagatorDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new VersionPropagatorDescriptionArg(this.versionedDeps, this.labels, newValue, this.name, this.deps, this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionPropagatorDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new VersionPropagatorDescriptionArg(this.versionedDeps, this.labels, newValue, this.name, this.deps, this.tests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final VersionPropagatorDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new VersionPropagatorDescriptionArg(this.versionedDeps, this.labels, this.licenses, newValue, this.deps, this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionPropagatorDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new VersionPropagatorDescriptionArg(this.versionedDeps, this.labels, this.licenses, this.name, newValue, this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionPropagatorDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new VersionPropagatorDescriptionArg(this.versionedDeps, this.labels, this.licenses, this.name, newValue, this.tests);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getTests() tests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionPropagatorDescriptionArg withTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new VersionPropagatorDescriptionArg(this.versionedDeps, this.labels, this.licenses, this.name, this.deps, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getTests() tests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of tests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionPropagatorDescriptionArg withTests(Iterable<? extends BuildTarget> elements) {
+    if (this.tests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new VersionPropagatorDescriptionArg(this.versionedDeps, this.labels, this.licenses, this.name, this.deps, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code VersionPropagatorDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof VersionPropagatorDescriptionArg
+        && equalTo((VersionPropagatorDescriptionArg) another);
+  }
+
+  private boolean equalTo(VersionPropagatorDescriptionArg another) {
+    return versionedDeps.equals(another.versionedDeps)
+        && labels.equals(another.labels)
+        && licenses.equals(another.licenses)
+        && name.equals(another.name)
+        && deps.equals(another.deps)
+        && tests.equals(another.tests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code versionedDeps}, {@code labels}, {@code licenses}, {@code name}, {@code deps}, {@code tests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + versionedDeps.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + tests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code VersionPropagatorDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("VersionPropagatorDescriptionArg")
+        .omitNullValues()
+        .add("versionedDeps", versionedDeps)
+        .add("labels", labels)
+        .add("licenses", licenses)
+        .add("name", name)
+        .add("deps", deps)
+        .add("tests", tests)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable VersionPropagatorDescriptionArg instance
+   */
+  static VersionPropagatorDescriptionArg copyOf(VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg instance) {
+    if (instance instanceof VersionPropagatorDescriptionArg) {
+      return (VersionPropagatorDescriptionArg) instance;
+    }
+    return VersionPropagatorDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link VersionPropagatorDescriptionArg VersionPropagatorDescriptionArg}.
+   * @return A new VersionPropagatorDescriptionArg builder
+   */
+  public static VersionPropagatorDescriptionArg.Builder builder() {
+    return new VersionPropagatorDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link VersionPropagatorDescriptionArg VersionPropagatorDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableSortedMap.Builder<BuildTarget, Optional<Constraint>> versionedDeps = ImmutableSortedMap.naturalOrder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private @Nullable String name;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code VersionPropagatorDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(VersionPropagatorDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractVersionPropagatorDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg) {
+        VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg instance = (VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg) object;
+        putAllVersionedDeps(instance.getVersionedDeps());
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+    }
+
+    /**
+     * Put one entry to the {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getVersionedDeps() versionedDeps} map.
+     * @param key The key in the versionedDeps map
+     * @param value The associated value in the versionedDeps map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putVersionedDeps(BuildTarget key, Optional<Constraint> value) {
+      this.versionedDeps.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getVersionedDeps() versionedDeps} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putVersionedDeps(Map.Entry<? extends BuildTarget, ? extends Optional<Constraint>> entry) {
+      this.versionedDeps.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getVersionedDeps() versionedDeps} map. Nulls are not permitted
+     * @param versionedDeps The entries that will be added to the versionedDeps map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionedDeps(Map<? extends BuildTarget, ? extends Optional<Constraint>> versionedDeps) {
+      this.versionedDeps = ImmutableSortedMap.naturalOrder();
+      return putAllVersionedDeps(versionedDeps);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getVersionedDeps() versionedDeps} map. Nulls are not permitted
+     * @param versionedDeps The entries that will be added to the versionedDeps map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllVersionedDeps(Map<? extends BuildTarget, ? extends Optional<Constraint>> versionedDeps) {
+      this.versionedDeps.putAll(versionedDeps);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link VersionPropagatorBuilder.AbstractVersionPropagatorDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link VersionPropagatorDescriptionArg VersionPropagatorDescriptionArg}.
+     * @return An immutable instance of VersionPropagatorDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public VersionPropagatorDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new VersionPropagatorDescriptionArg(versionedDeps.build(), labels.build(), licenses.build(), name, deps.build(), tests.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build VersionPropagatorDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
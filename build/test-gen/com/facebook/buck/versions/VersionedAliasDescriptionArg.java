@@ -0,0 +1,445 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.CommonDescriptionArg;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code VersionedAliasDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg"})
+@Immutable
+public final class VersionedAliasDescriptionArg
+    implements AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg {
+  private final ImmutableMap<Version, BuildTarget> versions;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+
+  private VersionedAliasDescriptionArg(
+      ImmutableMap<Version, BuildTarget> versions,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels) {
+    this.versions = versions;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+  }
+
+  /**
+   * @return The value of the {@code versions} attribute
+   */
+  @Override
+  public ImmutableMap<Version, BuildTarget> getVersions() {
+    return versions;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getVersions() versions} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the versions map
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionedAliasDescriptionArg withVersions(Map<? extends Version, ? extends BuildTarget> entries) {
+    if (this.versions == entries) return this;
+    ImmutableMap<Version, BuildTarget> newValue = ImmutableMap.copyOf(entries);
+    return new VersionedAliasDescriptionArg(newValue, this.name, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final VersionedAliasDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new VersionedAliasDescriptionArg(this.versions, newValue, this.licenses, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionedAliasDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new VersionedAliasDescriptionArg(this.versions, this.name, newValue, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionedAliasDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new VersionedAliasDescriptionArg(this.versions, this.name, newValue, this.labels);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionedAliasDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return new VersionedAliasDescriptionArg(this.versions, this.name, this.licenses, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionedAliasDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return new VersionedAliasDescriptionArg(this.versions, this.name, this.licenses, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code VersionedAliasDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof VersionedAliasDescriptionArg
+        && equalTo((VersionedAliasDescriptionArg) another);
+  }
+
+  private boolean equalTo(VersionedAliasDescriptionArg another) {
+    return versions.equals(another.versions)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code versions}, {@code name}, {@code licenses}, {@code labels}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + versions.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code VersionedAliasDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("VersionedAliasDescriptionArg")
+        .omitNullValues()
+        .add("versions", versions)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable VersionedAliasDescriptionArg instance
+   */
+  static VersionedAliasDescriptionArg copyOf(AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg instance) {
+    if (instance instanceof VersionedAliasDescriptionArg) {
+      return (VersionedAliasDescriptionArg) instance;
+    }
+    return VersionedAliasDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link VersionedAliasDescriptionArg VersionedAliasDescriptionArg}.
+   * @return A new VersionedAliasDescriptionArg builder
+   */
+  public static VersionedAliasDescriptionArg.Builder builder() {
+    return new VersionedAliasDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link VersionedAliasDescriptionArg VersionedAliasDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableMap.Builder<Version, BuildTarget> versions = ImmutableMap.builder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code VersionedAliasDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(VersionedAliasDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractVersionedAliasDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.rules.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg) {
+        AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg instance = (AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg) object;
+        putAllVersions(instance.getVersions());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Put one entry to the {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getVersions() versions} map.
+     * @param key The key in the versions map
+     * @param value The associated value in the versions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putVersions(Version key, BuildTarget value) {
+      this.versions.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getVersions() versions} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putVersions(Map.Entry<? extends Version, ? extends BuildTarget> entry) {
+      this.versions.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getVersions() versions} map. Nulls are not permitted
+     * @param versions The entries that will be added to the versions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersions(Map<? extends Version, ? extends BuildTarget> versions) {
+      this.versions = ImmutableMap.builder();
+      return putAllVersions(versions);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getVersions() versions} map. Nulls are not permitted
+     * @param versions The entries that will be added to the versions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllVersions(Map<? extends Version, ? extends BuildTarget> versions) {
+      this.versions.putAll(versions);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractVersionedAliasDescription.AbstractVersionedAliasDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link VersionedAliasDescriptionArg VersionedAliasDescriptionArg}.
+     * @return An immutable instance of VersionedAliasDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public VersionedAliasDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new VersionedAliasDescriptionArg(versions.build(), name, licenses.build(), labels.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build VersionedAliasDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
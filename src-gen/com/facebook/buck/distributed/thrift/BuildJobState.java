@@ -15,6 +15,7 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
   private static final org.apache.thrift.protocol.TField FILE_HASHES_FIELD_DESC = new org.apache.thrift.protocol.TField("fileHashes", org.apache.thrift.protocol.TType.LIST, (short)2);
   private static final org.apache.thrift.protocol.TField TARGET_GRAPH_FIELD_DESC = new org.apache.thrift.protocol.TField("targetGraph", org.apache.thrift.protocol.TType.STRUCT, (short)3);
   private static final org.apache.thrift.protocol.TField TOP_LEVEL_TARGETS_FIELD_DESC = new org.apache.thrift.protocol.TField("topLevelTargets", org.apache.thrift.protocol.TType.LIST, (short)4);
+  private static final org.apache.thrift.protocol.TField BUILD_RULE_WALL_MILLIS_FIELD_DESC = new org.apache.thrift.protocol.TField("buildRuleWallMillis", org.apache.thrift.protocol.TType.MAP, (short)5);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new BuildJobStateStandardSchemeFactory();
   private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new BuildJobStateTupleSchemeFactory();
@@ -23,13 +24,15 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
   public java.util.List<BuildJobStateFileHashes> fileHashes; // optional
   public BuildJobStateTargetGraph targetGraph; // optional
   public java.util.List<java.lang.String> topLevelTargets; // optional
+  public java.util.Map<java.lang.String,java.lang.Long> buildRuleWallMillis; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     CELLS((short)1, "cells"),
     FILE_HASHES((short)2, "fileHashes"),
     TARGET_GRAPH((short)3, "targetGraph"),
-    TOP_LEVEL_TARGETS((short)4, "topLevelTargets");
+    TOP_LEVEL_TARGETS((short)4, "topLevelTargets"),
+    BUILD_RULE_WALL_MILLIS((short)5, "buildRuleWallMillis");
 
     private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -52,6 +55,8 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
           return TARGET_GRAPH;
         case 4: // TOP_LEVEL_TARGETS
           return TOP_LEVEL_TARGETS;
+        case 5: // BUILD_RULE_WALL_MILLIS
+          return BUILD_RULE_WALL_MILLIS;
         default:
           return null;
       }
@@ -92,7 +97,7 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
   }
 
   // isset id assignments
-  private static final _Fields optionals[] = {_Fields.CELLS,_Fields.FILE_HASHES,_Fields.TARGET_GRAPH,_Fields.TOP_LEVEL_TARGETS};
+  private static final _Fields optionals[] = {_Fields.CELLS,_Fields.FILE_HASHES,_Fields.TARGET_GRAPH,_Fields.TOP_LEVEL_TARGETS,_Fields.BUILD_RULE_WALL_MILLIS};
   public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -108,6 +113,10 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
     tmpMap.put(_Fields.TOP_LEVEL_TARGETS, new org.apache.thrift.meta_data.FieldMetaData("topLevelTargets", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
         new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
             new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+    tmpMap.put(_Fields.BUILD_RULE_WALL_MILLIS, new org.apache.thrift.meta_data.FieldMetaData("buildRuleWallMillis", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(BuildJobState.class, metaDataMap);
   }
@@ -148,6 +157,10 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
       java.util.List<java.lang.String> __this__topLevelTargets = new java.util.ArrayList<java.lang.String>(other.topLevelTargets);
       this.topLevelTargets = __this__topLevelTargets;
     }
+    if (other.isSetBuildRuleWallMillis()) {
+      java.util.Map<java.lang.String,java.lang.Long> __this__buildRuleWallMillis = new java.util.HashMap<java.lang.String,java.lang.Long>(other.buildRuleWallMillis);
+      this.buildRuleWallMillis = __this__buildRuleWallMillis;
+    }
   }
 
   public BuildJobState deepCopy() {
@@ -160,6 +173,7 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
     this.fileHashes = null;
     this.targetGraph = null;
     this.topLevelTargets = null;
+    this.buildRuleWallMillis = null;
   }
 
   public int getCellsSize() {
@@ -299,6 +313,41 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
     }
   }
 
+  public int getBuildRuleWallMillisSize() {
+    return (this.buildRuleWallMillis == null) ? 0 : this.buildRuleWallMillis.size();
+  }
+
+  public void putToBuildRuleWallMillis(java.lang.String key, long val) {
+    if (this.buildRuleWallMillis == null) {
+      this.buildRuleWallMillis = new java.util.HashMap<java.lang.String,java.lang.Long>();
+    }
+    this.buildRuleWallMillis.put(key, val);
+  }
+
+  public java.util.Map<java.lang.String,java.lang.Long> getBuildRuleWallMillis() {
+    return this.buildRuleWallMillis;
+  }
+
+  public BuildJobState setBuildRuleWallMillis(java.util.Map<java.lang.String,java.lang.Long> buildRuleWallMillis) {
+    this.buildRuleWallMillis = buildRuleWallMillis;
+    return this;
+  }
+
+  public void unsetBuildRuleWallMillis() {
+    this.buildRuleWallMillis = null;
+  }
+
+  /** Returns true if field buildRuleWallMillis is set (has been assigned a value) and false otherwise */
+  public boolean isSetBuildRuleWallMillis() {
+    return this.buildRuleWallMillis != null;
+  }
+
+  public void setBuildRuleWallMillisIsSet(boolean value) {
+    if (!value) {
+      this.buildRuleWallMillis = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, java.lang.Object value) {
     switch (field) {
     case CELLS:
@@ -333,6 +382,14 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
       }
       break;
 
+    case BUILD_RULE_WALL_MILLIS:
+      if (value == null) {
+        unsetBuildRuleWallMillis();
+      } else {
+        setBuildRuleWallMillis((java.util.Map<java.lang.String,java.lang.Long>)value);
+      }
+      break;
+
     }
   }
 
@@ -350,6 +407,9 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
     case TOP_LEVEL_TARGETS:
       return getTopLevelTargets();
 
+    case BUILD_RULE_WALL_MILLIS:
+      return getBuildRuleWallMillis();
+
     }
     throw new java.lang.IllegalStateException();
   }
@@ -369,6 +429,8 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
       return isSetTargetGraph();
     case TOP_LEVEL_TARGETS:
       return isSetTopLevelTargets();
+    case BUILD_RULE_WALL_MILLIS:
+      return isSetBuildRuleWallMillis();
     }
     throw new java.lang.IllegalStateException();
   }
@@ -424,6 +486,15 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
         return false;
     }
 
+    boolean this_present_buildRuleWallMillis = true && this.isSetBuildRuleWallMillis();
+    boolean that_present_buildRuleWallMillis = true && that.isSetBuildRuleWallMillis();
+    if (this_present_buildRuleWallMillis || that_present_buildRuleWallMillis) {
+      if (!(this_present_buildRuleWallMillis && that_present_buildRuleWallMillis))
+        return false;
+      if (!this.buildRuleWallMillis.equals(that.buildRuleWallMillis))
+        return false;
+    }
+
     return true;
   }
 
@@ -447,6 +518,10 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
     if (isSetTopLevelTargets())
       hashCode = hashCode * 8191 + topLevelTargets.hashCode();
 
+    hashCode = hashCode * 8191 + ((isSetBuildRuleWallMillis()) ? 131071 : 524287);
+    if (isSetBuildRuleWallMillis())
+      hashCode = hashCode * 8191 + buildRuleWallMillis.hashCode();
+
     return hashCode;
   }
 
@@ -498,6 +573,16 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
         return lastComparison;
       }
     }
+    lastComparison = java.lang.Boolean.valueOf(isSetBuildRuleWallMillis()).compareTo(other.isSetBuildRuleWallMillis());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetBuildRuleWallMillis()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.buildRuleWallMillis, other.buildRuleWallMillis);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -557,6 +642,16 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
       }
       first = false;
     }
+    if (isSetBuildRuleWallMillis()) {
+      if (!first) sb.append(", ");
+      sb.append("buildRuleWallMillis:");
+      if (this.buildRuleWallMillis == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.buildRuleWallMillis);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -670,6 +765,26 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 5: // BUILD_RULE_WALL_MILLIS
+            if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+              {
+                org.apache.thrift.protocol.TMap _map96 = iprot.readMapBegin();
+                struct.buildRuleWallMillis = new java.util.HashMap<java.lang.String,java.lang.Long>(2*_map96.size);
+                java.lang.String _key97;
+                long _val98;
+                for (int _i99 = 0; _i99 < _map96.size; ++_i99)
+                {
+                  _key97 = iprot.readString();
+                  _val98 = iprot.readI64();
+                  struct.buildRuleWallMillis.put(_key97, _val98);
+                }
+                iprot.readMapEnd();
+              }
+              struct.setBuildRuleWallMillisIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -735,6 +850,21 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
           oprot.writeFieldEnd();
         }
       }
+      if (struct.buildRuleWallMillis != null) {
+        if (struct.isSetBuildRuleWallMillis()) {
+          oprot.writeFieldBegin(BUILD_RULE_WALL_MILLIS_FIELD_DESC);
+          {
+            oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, struct.buildRuleWallMillis.size()));
+            for (java.util.Map.Entry<java.lang.String, java.lang.Long> _iter100 : struct.buildRuleWallMillis.entrySet())
+            {
+              oprot.writeString(_iter100.getKey());
+              oprot.writeI64(_iter100.getValue());
+            }
+            oprot.writeMapEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -765,7 +895,10 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
       if (struct.isSetTopLevelTargets()) {
         optionals.set(3);
       }
-      oprot.writeBitSet(optionals, 4);
+      if (struct.isSetBuildRuleWallMillis()) {
+        optionals.set(4);
+      }
+      oprot.writeBitSet(optionals, 5);
       if (struct.isSetCells()) {
         {
           oprot.writeI32(struct.cells.size());
@@ -797,12 +930,22 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
           }
         }
       }
+      if (struct.isSetBuildRuleWallMillis()) {
+        {
+          oprot.writeI32(struct.buildRuleWallMillis.size());
+          for (java.util.Map.Entry<java.lang.String, java.lang.Long> _iter101 : struct.buildRuleWallMillis.entrySet())
+          {
+            oprot.writeString(_iter101.getKey());
+            oprot.writeI64(_iter101.getValue());
+          }
+        }
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, BuildJobState struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(4);
+      java.util.BitSet incoming = iprot.readBitSet(5);
       if (incoming.get(0)) {
         {
           org.apache.thrift.protocol.TMap _map86 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I32, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
@@ -851,6 +994,21 @@ public class BuildJobState implements org.apache.thrift.TBase<BuildJobState, Bui
         }
         struct.setTopLevelTargetsIsSet(true);
       }
+      if (incoming.get(4)) {
+        {
+          org.apache.thrift.protocol.TMap _map102 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.buildRuleWallMillis = new java.util.HashMap<java.lang.String,java.lang.Long>(2*_map102.size);
+          java.lang.String _key103;
+          long _val104;
+          for (int _i105 = 0; _i105 < _map102.size; ++_i105)
+          {
+            _key103 = iprot.readString();
+            _val104 = iprot.readI64();
+            struct.buildRuleWallMillis.put(_key103, _val104);
+          }
+        }
+        struct.setBuildRuleWallMillisIsSet(true);
+      }
     }
   }
 
@@ -28,13 +28,20 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -45,6 +52,7 @@ import org.immutables.value.Value;
 public abstract class AbstractAsynchronousCache implements ArtifactCache {
   private static final Logger LOG = Logger.get(AbstractAsynchronousCache.class);
   private static final int MAX_CONSECUTIVE_MULTI_FETCH_ERRORS = 3;
+  private static final int DEFAULT_MULTI_CONTAINS_BATCH_SIZE = 1000;
   private final String name;
   private final CacheReadMode cacheReadMode;
 
@@ -99,12 +107,57 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
 
   protected abstract FetchResult fetchImpl(RuleKey ruleKey, LazyPath output) throws IOException;
 
+  /**
+   * Fetches an artifact and hands its payload to the consumer. By default the artifact is fetched
+   * to the output file with {@link #fetchImpl} and consumed from there, caches which can read the
+   * payload while it is arriving should override this, and can implement {@link #fetchImpl} with
+   * {@link #fetchStreamingToFile}.
+   *
+   * <p>If this throws, the consumer is told to discard whatever it consumed.
+   */
+  protected FetchResult fetchStreamingImpl(
+      RuleKey ruleKey, LazyPath output, ArtifactPayloadConsumer consumer) throws IOException {
+    FetchResult fetchResult = fetchImpl(ruleKey, output);
+    return fetchResult.withCacheResult(
+        ArtifactPayloadConsumer.consumeFetchedFile(
+            fetchResult.getCacheResult(), output, consumer));
+  }
+
+  /** Implements {@link #fetchImpl} for caches which override {@link #fetchStreamingImpl}. */
+  protected final FetchResult fetchStreamingToFile(RuleKey ruleKey, LazyPath output)
+      throws IOException {
+    FileArtifactPayloadConsumer file = new FileArtifactPayloadConsumer(projectFilesystem, output);
+    FetchResult fetchResult;
+    try {
+      fetchResult = fetchStreamingImpl(ruleKey, output, file);
+    } catch (IOException e) {
+      file.discard();
+      throw e;
+    }
+    if (fetchResult.getCacheResult().getType() == CacheResultType.HIT) {
+      file.commit();
+    }
+    return fetchResult;
+  }
+
   protected abstract StoreResult storeImpl(ArtifactInfo info, Path file) throws IOException;
 
   /** The MultiFetchResult should contain results in the same order as the requests. */
   protected abstract MultiFetchResult multiFetchImpl(Iterable<FetchRequest> requests)
       throws IOException;
 
+  /**
+   * The result should contain an entry for every requested key. Keys which the cache could not
+   * check in this request can be {@link CacheResultType#SKIPPED}, and will be requested again.
+   */
+  protected abstract ImmutableMap<RuleKey, CacheResult> multiContainsImpl(
+      ImmutableSet<RuleKey> ruleKeys) throws IOException;
+
+  /** Used to compute the number of keys to include in every multiContains request. */
+  protected int getMultiContainsBatchSize() {
+    return DEFAULT_MULTI_CONTAINS_BATCH_SIZE;
+  }
+
   /**
    * Used to compute the number of keys to include in every multiFetchRequest. If < 1, fetch will be
    * used instead of multifetch.
@@ -146,7 +199,7 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
             thisRequest.reschedule();
           } else {
             requestEvents.finished(i, thisResult);
-            thisRequest.setResult(thisResult.getCacheResult());
+            thisRequest.setResult(consumeIfStreaming(thisRequest.getRequest(), thisResult));
           }
         }
         gotNonError =
@@ -186,15 +239,72 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
     }
   }
 
+  private ImmutableMap<RuleKey, CacheResult> doMultiContains(ImmutableSet<RuleKey> ruleKeys) {
+    Map<RuleKey, CacheResult> results = new HashMap<>();
+    ImmutableSet<RuleKey> remainingKeys = ruleKeys;
+    while (!remainingKeys.isEmpty()) {
+      ImmutableMap<RuleKey, CacheResult> batchResults;
+      try {
+        batchResults = multiContainsImpl(remainingKeys);
+        Preconditions.checkState(batchResults.keySet().equals(remainingKeys));
+      } catch (IOException e) {
+        String msg =
+            String.format(
+                "multiContains(<%d keys>): %s: %s",
+                remainingKeys.size(), e.getClass().getName(), e.getMessage());
+        LOG.warn(e, msg);
+        CacheResult error = CacheResult.error(name, mode, msg);
+        remainingKeys.forEach(ruleKey -> results.put(ruleKey, error));
+        break;
+      }
+      results.putAll(batchResults);
+
+      ImmutableSet<RuleKey> skippedKeys =
+          batchResults
+              .entrySet()
+              .stream()
+              .filter(entry -> entry.getValue().getType() == CacheResultType.SKIPPED)
+              .map(Map.Entry::getKey)
+              .collect(MoreCollectors.toImmutableSet());
+      if (skippedKeys.size() == remainingKeys.size()) {
+        // The cache didn't make any progress, so leave the remaining keys skipped.
+        LOG.debug("multiContains skipped all of %d keys.", skippedKeys.size());
+        break;
+      }
+      remainingKeys = skippedKeys;
+    }
+    return ruleKeys
+        .stream()
+        .collect(MoreCollectors.toImmutableMap(ruleKey -> ruleKey, results::get));
+  }
+
+  // Multi-fetches always go through files, so consume those of streaming requests from there.
+  private CacheResult consumeIfStreaming(FetchRequest request, FetchResult fetchResult) {
+    if (request.consumer == null) {
+      return fetchResult.getCacheResult();
+    }
+    return ArtifactPayloadConsumer.consumeFetchedFile(
+        fetchResult.getCacheResult(), request.getOutput(), request.consumer);
+  }
+
   private void doFetch(FetchRequest request) {
     CacheResult result;
     CacheEventListener.FetchRequestEvents requestEvents =
         eventListener.fetchStarted(request.getRuleKey());
     try {
-      FetchResult fetchResult = fetchImpl(request.getRuleKey(), request.getOutput());
+      FetchResult fetchResult;
+      if (request.consumer == null) {
+        fetchResult = fetchImpl(request.getRuleKey(), request.getOutput());
+      } else {
+        fetchResult =
+            fetchStreamingImpl(request.getRuleKey(), request.getOutput(), request.consumer);
+      }
       result = fetchResult.getCacheResult();
       requestEvents.finished(fetchResult);
     } catch (IOException e) {
+      if (request.consumer != null) {
+        discardQuietly(request.getRuleKey(), request.consumer);
+      }
       String msg =
           String.format(
               "fetch(%s): %s: %s", request.getRuleKey(), e.getClass().getName(), e.getMessage());
@@ -204,6 +314,14 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
     request.future.set(result);
   }
 
+  private static void discardQuietly(RuleKey ruleKey, ArtifactPayloadConsumer consumer) {
+    try {
+      consumer.discard();
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to discard the partially fetched artifact for %s.", ruleKey);
+    }
+  }
+
   private void processFetch() {
     try {
       int multiFetchLimit =
@@ -306,6 +424,33 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
     return future;
   }
 
+  @Override
+  public final ListenableFuture<CacheResult> fetchStreamingAsync(
+      RuleKey ruleKey, LazyPath spoolFile, ArtifactPayloadConsumer consumer) {
+    eventListener.fetchScheduled(ruleKey);
+    SettableFuture<CacheResult> future = SettableFuture.create();
+    addFetchRequest(new FetchRequest(ruleKey, spoolFile, future, consumer));
+    return future;
+  }
+
+  @Override
+  public final ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+      ImmutableSet<RuleKey> ruleKeys) {
+    List<ListenableFuture<ImmutableMap<RuleKey, CacheResult>>> batchFutures = new ArrayList<>();
+    for (List<RuleKey> batch : Iterables.partition(ruleKeys, getMultiContainsBatchSize())) {
+      ImmutableSet<RuleKey> batchKeys = ImmutableSet.copyOf(batch);
+      batchFutures.add(fetchExecutorService.submit(() -> doMultiContains(batchKeys)));
+    }
+    return Futures.transform(
+        Futures.allAsList(batchFutures),
+        (List<ImmutableMap<RuleKey, CacheResult>> batchResults) -> {
+          ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+          batchResults.forEach(results::putAll);
+          return results.build();
+        },
+        MoreExecutors.directExecutor());
+  }
+
   @Override
   public final ListenableFuture<Void> store(final ArtifactInfo info, final BorrowablePath output) {
     if (!getCacheReadMode().isWritable()) {
@@ -418,12 +563,22 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
     private final RuleKey ruleKey;
     private final LazyPath output;
     private final SettableFuture<CacheResult> future;
+    @Nullable private final ArtifactPayloadConsumer consumer;
 
     @VisibleForTesting
     protected FetchRequest(RuleKey ruleKey, LazyPath output, SettableFuture<CacheResult> future) {
+      this(ruleKey, output, future, null);
+    }
+
+    private FetchRequest(
+        RuleKey ruleKey,
+        LazyPath output,
+        SettableFuture<CacheResult> future,
+        @Nullable ArtifactPayloadConsumer consumer) {
       this.ruleKey = ruleKey;
       this.output = output;
       this.future = future;
+      this.consumer = consumer;
     }
 
     public RuleKey getRuleKey() {
@@ -99,7 +99,9 @@ abstract class AbstractCacheResult {
 
   public String getCacheSource() {
     Preconditions.checkState(
-        getType() == CacheResultType.HIT || getType() == CacheResultType.ERROR);
+        getType() == CacheResultType.HIT
+            || getType() == CacheResultType.ERROR
+            || getType() == CacheResultType.CONTAINS);
     return cacheSource().get();
   }
 
@@ -152,6 +154,17 @@ abstract class AbstractCacheResult {
         Optional.empty());
   }
 
+  public static CacheResult contains(String cacheSource, ArtifactCacheMode cacheMode) {
+    return CacheResult.of(
+        CacheResultType.CONTAINS,
+        Optional.of(cacheSource),
+        Optional.of(cacheMode),
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty());
+  }
+
   public static CacheResult error(
       String cacheSource, ArtifactCacheMode cacheMode, String cacheError) {
     return CacheResult.of(
@@ -212,7 +225,9 @@ abstract class AbstractCacheResult {
   protected void check() {
     Preconditions.checkState(
         cacheSource().isPresent()
-            || (getType() != CacheResultType.HIT && getType() != CacheResultType.ERROR));
+            || (getType() != CacheResultType.HIT
+                && getType() != CacheResultType.ERROR
+                && getType() != CacheResultType.CONTAINS));
     Preconditions.checkState(cacheError().isPresent() || getType() != CacheResultType.ERROR);
   }
 }
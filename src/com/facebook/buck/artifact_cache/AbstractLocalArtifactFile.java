@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.util.immutables.BuckStyleImmutable;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.immutables.value.Value;
+
+/** The result of looking up the file of an artifact in a {@link LocalArtifactFileCache}. */
+@Value.Immutable
+@BuckStyleImmutable
+interface AbstractLocalArtifactFile {
+  @Value.Parameter
+  CacheResult getCacheResult();
+
+  /**
+   * @return the absolute path of the file the artifact is stored in. The file must not be
+   *     modified, and may disappear when the cache evicts the artifact.
+   */
+  @Value.Parameter
+  Optional<Path> getPath();
+}
@@ -19,7 +19,11 @@ package com.facebook.buck.artifact_cache;
 import com.facebook.buck.io.file.BorrowablePath;
 import com.facebook.buck.io.file.LazyPath;
 import com.facebook.buck.rules.RuleKey;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 
 public interface ArtifactCache extends AutoCloseable {
   /**
@@ -34,6 +38,49 @@ public interface ArtifactCache extends AutoCloseable {
    */
   ListenableFuture<CacheResult> fetchAsync(RuleKey ruleKey, LazyPath output);
 
+  /**
+   * Fetch a cached artifact, keyed by ruleKey, and hand its payload to the given consumer. Caches
+   * which can read the payload off the network pass it to the consumer while it is arriving, others
+   * fetch it to spoolFile first and consume it from there.
+   *
+   * @param ruleKey cache fetch key
+   * @param spoolFile Path to store the artifact to if it can't be consumed while it is fetched.
+   *     Path should not be accessed unless the cache needs it, to avoid potential extra disk I/O.
+   * @param consumer receives the payload of the artifact. It is only called for hits, and is told
+   *     to discard the payload again if it turns out to be corrupt.
+   * @return whether it was a {@link CacheResultType#MISS} (indicating a failure) or some type of
+   *     hit.
+   */
+  default ListenableFuture<CacheResult> fetchStreamingAsync(
+      RuleKey ruleKey, LazyPath spoolFile, ArtifactPayloadConsumer consumer) {
+    return Futures.transform(
+        fetchAsync(ruleKey, spoolFile),
+        (CacheResult result) ->
+            ArtifactPayloadConsumer.consumeFetchedFile(result, spoolFile, consumer),
+        MoreExecutors.directExecutor());
+  }
+
+  /**
+   * Check which of the given rule keys have an artifact in the cache, without fetching any of them.
+   * The answer is only a hint: an artifact which is reported as present may still be evicted
+   * before it is fetched.
+   *
+   * <p>Not every cache can answer for every key. In particular {@link
+   * TwoLevelArtifactCacheDecorator} can only tell whether a present key points at an artifact
+   * which is still stored from the metadata of the key, so it reports present keys as {@link
+   * CacheResultType#SKIPPED} rather than reading that metadata for each of them. Callers may only
+   * skip fetches and uploads for keys reported as {@link CacheResultType#CONTAINS} or {@link
+   * CacheResultType#MISS}, and have to fetch a skipped key to find out whether it is present.
+   *
+   * @param ruleKeys cache lookup keys
+   * @return a map with an entry for each of the requested keys, which is {@link
+   *     CacheResultType#CONTAINS} if the cache has the artifact, {@link CacheResultType#MISS} if it
+   *     does not, {@link CacheResultType#ERROR} if the check failed, or {@link
+   *     CacheResultType#SKIPPED} if the cache could not check the key.
+   */
+  ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+      ImmutableSet<RuleKey> ruleKeys);
+
   /**
    * Store the artifact at path specified by output to cache, such that it can later be fetched
    * using ruleKey as the lookup key. If any internal errors occur, fail silently and continue
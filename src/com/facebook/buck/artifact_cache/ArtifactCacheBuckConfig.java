@@ -36,6 +36,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -82,9 +83,10 @@ public class ArtifactCacheBuckConfig implements ConfigView<BuckConfig> {
   private static final String DIR_FIELD = "dir";
   private static final String DIR_MODE_FIELD = "dir_mode";
   private static final String DIR_MAX_SIZE_FIELD = "dir_max_size";
+  private static final String DIR_LAYOUT_FIELD = "dir_layout";
   private static final String DIR_CACHE_NAMES_FIELD_NAME = "dir_cache_names";
   private static final ImmutableSet<String> DIR_CACHE_DESCRIPTION_FIELDS =
-      ImmutableSet.of(DIR_FIELD, DIR_MODE_FIELD, DIR_MAX_SIZE_FIELD);
+      ImmutableSet.of(DIR_FIELD, DIR_MODE_FIELD, DIR_MAX_SIZE_FIELD, DIR_LAYOUT_FIELD);
 
   private static final URI DEFAULT_HTTP_URL = URI.create("http://localhost:8080/");
   private static final String DEFAULT_HTTP_CACHE_MODE = CacheReadMode.READWRITE.name();
@@ -103,6 +105,8 @@ public class ArtifactCacheBuckConfig implements ConfigView<BuckConfig> {
   private static final String SERVED_CACHE_ENABLED_FIELD_NAME = "serve_local_cache";
   private static final String DEFAULT_SERVED_CACHE_MODE = CacheReadMode.READONLY.name();
   private static final String SERVED_CACHE_READ_MODE_FIELD_NAME = "served_local_cache_mode";
+  private static final String SERVED_CACHE_MAX_CONCURRENT_REQUESTS_FIELD_NAME =
+      "served_local_cache_max_concurrent_requests";
   private static final String LOAD_BALANCING_TYPE = "load_balancing_type";
   private static final LoadBalancingType DEFAULT_LOAD_BALANCING_TYPE =
       LoadBalancingType.SINGLE_SERVER;
@@ -128,6 +132,7 @@ public class ArtifactCacheBuckConfig implements ConfigView<BuckConfig> {
   static final String MULTI_FETCH = "multi_fetch";
   private static final String MULTI_FETCH_LIMIT = "multi_fetch_limit";
   private static final int DEFAULT_MULTI_FETCH_LIMIT = 100;
+  private static final String ARTIFACT_FORMAT = "artifact_format";
 
   public enum LoadBalancingType {
     SINGLE_SERVER,
@@ -170,6 +175,13 @@ public class ArtifactCacheBuckConfig implements ConfigView<BuckConfig> {
         .orElse(MultiFetchType.DEFAULT);
   }
 
+  /** @return the container format artifacts are packed into before they are stored. */
+  public ArtifactContainerFormat getArtifactContainerFormat() {
+    return buckConfig
+        .getEnum(CACHE_SECTION_NAME, ARTIFACT_FORMAT, ArtifactContainerFormat.class)
+        .orElse(ArtifactContainerFormat.ZIP);
+  }
+
   @Override
   public BuckConfig getDelegate() {
     return buckConfig;
@@ -272,6 +284,25 @@ public class ArtifactCacheBuckConfig implements ConfigView<BuckConfig> {
         obtainDirEntryForName(Optional.empty()).withCacheReadMode(getServedLocalCacheReadMode()));
   }
 
+  /**
+   * @return how many requests the served local cache handles at the same time, if that is limited.
+   *     Requests beyond the limit are turned away, so that clients fall back to building instead of
+   *     waiting for the cache.
+   */
+  public OptionalInt getServedLocalCacheMaxConcurrentRequests() {
+    Optional<Integer> limit =
+        buckConfig.getInteger(CACHE_SECTION_NAME, SERVED_CACHE_MAX_CONCURRENT_REQUESTS_FIELD_NAME);
+    if (!limit.isPresent()) {
+      return OptionalInt.empty();
+    }
+    if (limit.get() <= 0) {
+      throw new HumanReadableException(
+          "%s.%s must be positive, got %d",
+          CACHE_SECTION_NAME, SERVED_CACHE_MAX_CONCURRENT_REQUESTS_FIELD_NAME, limit.get());
+    }
+    return OptionalInt.of(limit.get());
+  }
+
   public ArtifactCacheEntries getCacheEntries() {
     ImmutableSet<DirCacheEntry> dirCacheEntries = getDirCacheEntries();
     ImmutableSet<HttpCacheEntry> httpCacheEntries = getHttpCacheEntries();
@@ -428,11 +459,17 @@ public class ArtifactCacheBuckConfig implements ConfigView<BuckConfig> {
     Optional<Long> maxSizeBytes =
         buckConfig.getValue(section, DIR_MAX_SIZE_FIELD).map(SizeUnit::parseBytes);
 
+    DirCacheLayout layout =
+        buckConfig
+            .getEnum(section, DIR_LAYOUT_FIELD, DirCacheLayout.class)
+            .orElse(DirCacheLayout.RULE_KEY);
+
     return DirCacheEntry.builder()
         .setName(cacheName)
         .setCacheDir(pathToCacheDir)
         .setCacheReadMode(readMode)
         .setMaxSizeBytes(maxSizeBytes)
+        .setLayout(layout)
         .build();
   }
 
@@ -541,6 +578,11 @@ public class ArtifactCacheBuckConfig implements ConfigView<BuckConfig> {
     public abstract Optional<Long> getMaxSizeBytes();
 
     public abstract CacheReadMode getCacheReadMode();
+
+    @Value.Default
+    public DirCacheLayout getLayout() {
+      return DirCacheLayout.RULE_KEY;
+    }
   }
 
   @Value.Immutable
@@ -317,13 +317,28 @@ public class ArtifactCaches implements ArtifactCacheFactory {
       ProjectFilesystem projectFilesystem) {
     Path cacheDir = dirCacheConfig.getCacheDir();
     try {
-      DirArtifactCache dirArtifactCache =
-          new DirArtifactCache(
-              "dir",
-              projectFilesystem,
-              cacheDir,
-              dirCacheConfig.getCacheReadMode(),
-              dirCacheConfig.getMaxSizeBytes());
+      ArtifactCache dirArtifactCache;
+      switch (dirCacheConfig.getLayout()) {
+        case CONTENT_ADDRESSED:
+          dirArtifactCache =
+              new ContentAddressedDirArtifactCache(
+                  "dir",
+                  projectFilesystem,
+                  cacheDir,
+                  dirCacheConfig.getCacheReadMode(),
+                  dirCacheConfig.getMaxSizeBytes());
+          break;
+        case RULE_KEY:
+        default:
+          dirArtifactCache =
+              new DirArtifactCache(
+                  "dir",
+                  projectFilesystem,
+                  cacheDir,
+                  dirCacheConfig.getCacheReadMode(),
+                  dirCacheConfig.getMaxSizeBytes());
+          break;
+      }
 
       if (!buckEventBus.isPresent()) {
         return dirArtifactCache;
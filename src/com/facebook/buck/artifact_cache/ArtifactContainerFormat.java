@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.util.concurrent.MostExecutors;
+import com.facebook.buck.util.zip.BlockArchive;
+import com.facebook.buck.util.zip.Unzip;
+import com.facebook.buck.util.zip.Zip;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.ZipException;
+
+/**
+ * The container format artifacts are packed into before they are stored in the cache. The format
+ * of an artifact is recorded in its metadata, so artifacts of different formats can be fetched from
+ * the same cache.
+ */
+public enum ArtifactContainerFormat {
+  /** A zip file, compressed on a single thread. Artifacts without a recorded format are zips. */
+  ZIP(".zip") {
+    @Override
+    public void create(ProjectFilesystem filesystem, Collection<Path> paths, Path out)
+        throws IOException {
+      Zip.create(filesystem, paths, out);
+    }
+
+    @Override
+    public ImmutableList<Path> extract(
+        InputStream payload, ProjectFilesystem filesystem, Unzip.ExistingFileMode existingFileMode)
+        throws IOException {
+      return Unzip.extractZipStream(payload, filesystem, existingFileMode);
+    }
+  },
+
+  /**
+   * A {@link BlockArchive}, compressed and extracted on several threads. Blocks are compressed with
+   * the fastest DEFLATE level, trading some of the compression ratio of {@link #ZIP} for time.
+   */
+  BLOCK_DEFLATE(".bcka") {
+    @Override
+    public void create(ProjectFilesystem filesystem, Collection<Path> paths, Path out)
+        throws IOException {
+      BlockArchive.create(filesystem, paths, out, Deflater.BEST_SPEED, EXECUTOR.get());
+    }
+
+    @Override
+    public ImmutableList<Path> extract(
+        InputStream payload, ProjectFilesystem filesystem, Unzip.ExistingFileMode existingFileMode)
+        throws IOException {
+      return BlockArchive.extract(payload, filesystem, existingFileMode, EXECUTOR.get());
+    }
+  },
+  ;
+
+  /** The metadata key the format of an artifact is recorded under. */
+  public static final String METADATA_KEY = "ARTIFACT_CONTAINER_FORMAT";
+
+  // Shared by all builds in the daemon and never shut down, as its threads only do CPU bound work
+  // for as long as a caller waits for them. Daemon threads so that it never keeps buck running.
+  private static final Supplier<ExecutorService> EXECUTOR =
+      Suppliers.memoize(
+          () ->
+              MostExecutors.newMultiThreadExecutor(
+                  new MostExecutors.NamedThreadFactory(
+                      ArtifactContainerFormat.class.getSimpleName(), /* daemon */ true),
+                  Runtime.getRuntime().availableProcessors()))::get;
+
+  private final String fileExtension;
+
+  ArtifactContainerFormat(String fileExtension) {
+    this.fileExtension = fileExtension;
+  }
+
+  public String getFileExtension() {
+    return fileExtension;
+  }
+
+  /**
+   * Takes a sequence of paths relative to the project root and packs them into a container at
+   * {@code out}.
+   */
+  public abstract void create(ProjectFilesystem filesystem, Collection<Path> paths, Path out)
+      throws IOException;
+
+  /**
+   * Extracts a container while it is being read from the given stream.
+   *
+   * @return the paths of the files which were extracted.
+   */
+  public abstract ImmutableList<Path> extract(
+      InputStream payload, ProjectFilesystem filesystem, Unzip.ExistingFileMode existingFileMode)
+      throws IOException;
+
+  /** @return the format recorded in the given artifact metadata. */
+  public static ArtifactContainerFormat fromMetadata(ImmutableMap<String, String> metadata)
+      throws IOException {
+    String format = metadata.get(METADATA_KEY);
+    if (format == null) {
+      return ZIP;
+    }
+    try {
+      return valueOf(format);
+    } catch (IllegalArgumentException e) {
+      // Written by a newer version of buck.
+      throw new ZipException(String.format("Unknown artifact container format %s.", format));
+    }
+  }
+}
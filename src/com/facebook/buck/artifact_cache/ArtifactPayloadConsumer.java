@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.io.file.LazyPath;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Receives the payload of an artifact while it is being fetched, see {@link
+ * ArtifactCache#fetchStreamingAsync}.
+ *
+ * <p>Caches verify the checksum of a payload only after it was consumed, so a consumer must be able
+ * to undo the effects of consuming a payload which turns out to be corrupt.
+ */
+public interface ArtifactPayloadConsumer {
+
+  /**
+   * Consumes the payload of a fetched artifact. This may be called again after {@link #discard()}
+   * if the fetch is retried.
+   *
+   * @param metadata the metadata which was stored with the artifact.
+   * @param payload the payload of the artifact. It doesn't need to be read to its end, and must
+   *     not be closed.
+   */
+  void consume(ImmutableMap<String, String> metadata, InputStream payload) throws IOException;
+
+  /**
+   * Undoes the effects of the last call to {@link #consume}, because the payload turned out to be
+   * incomplete or corrupt. This is a noop if nothing was consumed.
+   */
+  void discard() throws IOException;
+
+  /**
+   * Hands a fetched artifact which a cache wrote to a file over to a consumer, and deletes the file
+   * once it was consumed.
+   *
+   * @return the given result, or an error if the payload couldn't be consumed.
+   */
+  static CacheResult consumeFetchedFile(
+      CacheResult result, LazyPath spoolFile, ArtifactPayloadConsumer consumer) {
+    if (result.getType() != CacheResultType.HIT) {
+      return result;
+    }
+    // The cache only reports a hit once it wrote the file.
+    Path file = spoolFile.getUnchecked();
+    try {
+      try (InputStream payload = Files.newInputStream(file)) {
+        consumer.consume(result.getMetadata(), payload);
+      }
+      Files.deleteIfExists(file);
+      return result;
+    } catch (IOException e) {
+      try {
+        consumer.discard();
+      } catch (IOException discardException) {
+        e.addSuppressed(discardException);
+      }
+      return CacheResult.error(
+          result.getCacheSource(),
+          result.cacheMode().get(),
+          String.format(
+              "consume(%s): %s: %s", file, e.getClass().getName(), e.getMessage()));
+    }
+  }
+}
@@ -28,11 +28,11 @@ import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.util.CloseableHolder;
 import com.facebook.buck.util.NamedTemporaryFile;
 import com.facebook.buck.util.exceptions.BuckUncheckedExecutionException;
-import com.facebook.buck.util.zip.Zip;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -54,15 +54,30 @@ public class ArtifactUploader {
       ImmutableMap<String, String> buildMetadata,
       SortedSet<Path> pathsToIncludeInZip,
       BuildTarget buildTarget,
-      ProjectFilesystem projectFilesystem) {
+      ProjectFilesystem projectFilesystem,
+      ArtifactContainerFormat containerFormat) {
     NamedTemporaryFile zip =
         getTemporaryArtifactZip(
-            buildTarget, projectFilesystem, ruleKeys, eventBus, pathsToIncludeInZip);
+            buildTarget,
+            projectFilesystem,
+            ruleKeys,
+            eventBus,
+            pathsToIncludeInZip,
+            containerFormat);
+
+    // Record the container format, so that fetches know how to unpack the artifact.
+    ImmutableMap<String, String> artifactMetadata =
+        ImmutableMap.<String, String>builder()
+            .putAll(
+                Maps.filterKeys(
+                    buildMetadata, key -> !key.equals(ArtifactContainerFormat.METADATA_KEY)))
+            .put(ArtifactContainerFormat.METADATA_KEY, containerFormat.name())
+            .build();
 
     // Store the artifact, including any additional metadata.
     ListenableFuture<Void> storeFuture =
         artifactCache.store(
-            ArtifactInfo.builder().setRuleKeys(ruleKeys).setMetadata(buildMetadata).build(),
+            ArtifactInfo.builder().setRuleKeys(ruleKeys).setMetadata(artifactMetadata).build(),
             BorrowablePath.borrowablePath(zip.get()));
     Futures.addCallback(
         storeFuture,
@@ -99,15 +114,17 @@ public class ArtifactUploader {
       ProjectFilesystem projectFilesystem,
       ImmutableSet<RuleKey> ruleKeys,
       BuckEventBus eventBus,
-      SortedSet<Path> pathsToIncludeInZip) {
+      SortedSet<Path> pathsToIncludeInZip,
+      ArtifactContainerFormat containerFormat) {
     ArtifactCompressionEvent.Started started =
         ArtifactCompressionEvent.started(ArtifactCompressionEvent.Operation.COMPRESS, ruleKeys);
     eventBus.post(started);
     try (CloseableHolder<NamedTemporaryFile> zip =
         new CloseableHolder<>(
             new NamedTemporaryFile(
-                "buck_artifact_" + MoreFiles.sanitize(buildTarget.getShortName()), ".zip"))) {
-      Zip.create(projectFilesystem, pathsToIncludeInZip, zip.get().get());
+                "buck_artifact_" + MoreFiles.sanitize(buildTarget.getShortName()),
+                containerFormat.getFileExtension()))) {
+      containerFormat.create(projectFilesystem, pathsToIncludeInZip, zip.get().get());
       return zip.release();
     } catch (IOException e) {
       throw new BuckUncheckedExecutionException(
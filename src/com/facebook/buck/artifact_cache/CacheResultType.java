@@ -35,6 +35,9 @@ public enum CacheResultType {
 
   /** Artifact cache not queried because the local cache key was unchanged. */
   LOCAL_KEY_UNCHANGED_HIT(/* success */ true),
+
+  /** Artifact is present in the cache, but was only checked for and not fetched */
+  CONTAINS(/* success */ false),
   ;
 
   private boolean success;
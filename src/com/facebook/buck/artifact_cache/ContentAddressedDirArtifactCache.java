@@ -0,0 +1,494 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.io.file.BorrowablePath;
+import com.facebook.buck.io.file.LazyPath;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.util.Threads;
+import com.facebook.buck.util.concurrent.MostExecutors;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A dir cache which stores every distinct artifact once, named by the SHA-1 of its contents, and
+ * maps rule keys to the artifact they produce.
+ *
+ * <p>Rules whose outputs don't change when their inputs do share a single copy of the artifact, and
+ * cache hits are materialized with a hard link to the stored artifact instead of a copy when the
+ * output is on the same filesystem as the cache. Stored artifacts are made read-only so that
+ * nothing writing to a materialized output can modify them. The metadata of a rule key is kept in
+ * the same file as the reference to its artifact.
+ *
+ * <p>Old entries are evicted on a background thread, least recently fetched or stored first, and
+ * artifacts are deleted once no rule key refers to them anymore. Closing the cache waits for the
+ * evictions to finish.
+ */
+public class ContentAddressedDirArtifactCache implements LocalArtifactFileCache {
+
+  private static final Logger LOG = Logger.get(ContentAddressedDirArtifactCache.class);
+
+  private static final ArtifactCacheMode CACHE_MODE = ArtifactCacheMode.dir;
+  // Ratio of bytes stored to max size that expresses how many bytes need to be stored before we
+  // check whether old entries need to be evicted.
+  private static final float STORED_TO_MAX_BYTES_RATIO_TRIM_TRIGGER = 0.5f;
+  // How much of the max size to leave if we decide to evict old entries.
+  private static final float MAX_BYTES_TRIM_RATIO = 2 / 3f;
+  // Artifacts which no rule key refers to are only deleted after this long, as they may belong to
+  // a store which has not written its rule keys yet.
+  private static final long ORPHANED_CONTENT_GRACE_MILLIS = TimeUnit.HOURS.toMillis(1);
+  private static final String TMP_EXTENSION = ".tmp";
+
+  private final String name;
+  private final ProjectFilesystem filesystem;
+  private final Path cacheDir;
+  private final Optional<Long> maxCacheSizeBytes;
+  private final CacheReadMode cacheMode;
+  private final ExecutorService evictionExecutor;
+  private final AtomicLong bytesSinceLastEviction = new AtomicLong();
+  private final AtomicBoolean evictionScheduled = new AtomicBoolean();
+  private volatile boolean hardLinksSupported = true;
+
+  public ContentAddressedDirArtifactCache(
+      String name,
+      ProjectFilesystem filesystem,
+      Path cacheDir,
+      CacheReadMode cacheMode,
+      Optional<Long> maxCacheSizeBytes)
+      throws IOException {
+    this.name = name;
+    this.filesystem = filesystem;
+    this.cacheDir = cacheDir;
+    this.maxCacheSizeBytes = maxCacheSizeBytes;
+    this.cacheMode = cacheMode;
+    this.evictionExecutor =
+        MostExecutors.newSingleThreadExecutor(
+            ContentAddressedDirArtifactCache.class.getSimpleName());
+
+    // Check first, as mkdirs will fail if the path is a symlink.
+    if (!filesystem.isDirectory(cacheDir)) {
+      filesystem.mkdirs(cacheDir);
+    }
+  }
+
+  @Override
+  public ListenableFuture<CacheResult> fetchAsync(RuleKey ruleKey, LazyPath output) {
+    return Futures.immediateFuture(fetch(ruleKey, output));
+  }
+
+  private CacheResult fetch(RuleKey ruleKey, LazyPath output) {
+    CacheResult result;
+    Path keyPath = getKeyPath(ruleKey);
+    try {
+      ImmutableMap.Builder<String, String> metadata = ImmutableMap.builder();
+      Path contentPath = getContentPath(readKeyFile(keyPath, metadata));
+      try {
+        materialize(contentPath, output.get());
+      } catch (NoSuchFileException e) {
+        if (filesystem.exists(contentPath)) {
+          // Something is missing on the output side, e.g. the parent directory of the output.
+          throw new IOException(String.format("Failed to write %s", output.get()), e);
+        }
+        // The artifact was evicted while the rule key was being stored.
+        filesystem.deleteFileAtPathIfExists(keyPath);
+        throw e;
+      }
+      // Hard links don't update the access time of the artifact, so record the hit on the key.
+      filesystem.setLastModifiedTime(keyPath, FileTime.fromMillis(System.currentTimeMillis()));
+
+      result =
+          CacheResult.hit(name, CACHE_MODE, metadata.build(), filesystem.getFileSize(output.get()));
+    } catch (NoSuchFileException e) {
+      result = CacheResult.miss();
+    } catch (IOException e) {
+      LOG.warn(e, "Artifact fetch(%s, %s) error", ruleKey, output);
+      result =
+          CacheResult.error(
+              name, CACHE_MODE, String.format("%s: %s", e.getClass(), e.getMessage()));
+    }
+
+    LOG.verbose(
+        "Artifact fetch(%s, %s) cache %s",
+        ruleKey, output, (result.getType().isSuccess() ? "hit" : "miss"));
+    return result;
+  }
+
+  @Override
+  public LocalArtifactFile lookupArtifactFile(RuleKey ruleKey) {
+    CacheResult result;
+    Optional<Path> artifactPath = Optional.empty();
+    Path keyPath = getKeyPath(ruleKey);
+    try {
+      ImmutableMap.Builder<String, String> metadata = ImmutableMap.builder();
+      Path contentPath = filesystem.resolve(getContentPath(readKeyFile(keyPath, metadata)));
+      long size;
+      try {
+        size = Files.size(contentPath);
+      } catch (NoSuchFileException e) {
+        // The artifact was evicted while the rule key was being stored.
+        filesystem.deleteFileAtPathIfExists(keyPath);
+        throw e;
+      }
+      filesystem.setLastModifiedTime(keyPath, FileTime.fromMillis(System.currentTimeMillis()));
+
+      result = CacheResult.hit(name, CACHE_MODE, metadata.build(), size);
+      artifactPath = Optional.of(contentPath);
+    } catch (NoSuchFileException e) {
+      result = CacheResult.miss();
+    } catch (IOException e) {
+      LOG.warn(e, "Artifact lookup(%s) error", ruleKey);
+      result =
+          CacheResult.error(
+              name, CACHE_MODE, String.format("%s: %s", e.getClass(), e.getMessage()));
+    }
+
+    LOG.verbose(
+        "Artifact lookup(%s) cache %s", ruleKey, result.getType().isSuccess() ? "hit" : "miss");
+    return LocalArtifactFile.of(result, artifactPath);
+  }
+
+  private void materialize(Path contentPath, Path output) throws IOException {
+    if (hardLinksSupported) {
+      Path source = filesystem.resolve(contentPath);
+      Path target = filesystem.resolve(output);
+      try {
+        Files.deleteIfExists(target);
+        Files.createLink(target, source);
+        return;
+      } catch (NoSuchFileException e) {
+        throw e;
+      } catch (UnsupportedOperationException | FileSystemException e) {
+        // Most likely the output is on another filesystem than the cache.
+        LOG.info(e, "Cannot hard link %s to %s, copying cache hits instead.", source, target);
+        hardLinksSupported = false;
+      }
+    }
+    filesystem.copyFile(contentPath, output);
+  }
+
+  @Override
+  public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+      ImmutableSet<RuleKey> ruleKeys) {
+    ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+    for (RuleKey ruleKey : ruleKeys) {
+      boolean found = filesystem.exists(getKeyPath(ruleKey));
+      LOG.verbose("Artifact contains(%s) cache %s", ruleKey, found ? "hit" : "miss");
+      results.put(ruleKey, found ? CacheResult.contains(name, CACHE_MODE) : CacheResult.miss());
+    }
+    return Futures.immediateFuture(results.build());
+  }
+
+  @Override
+  public ListenableFuture<Void> store(ArtifactInfo info, BorrowablePath output) {
+    if (!getCacheReadMode().isWritable()) {
+      return Futures.immediateFuture(null);
+    }
+
+    try {
+      Optional<String> contentHash = Optional.empty();
+      for (RuleKey ruleKey : info.getRuleKeys()) {
+        Path keyPath = getKeyPath(ruleKey);
+        if (filesystem.exists(keyPath)) {
+          continue;
+        }
+        if (!contentHash.isPresent()) {
+          contentHash = Optional.of(storeContent(output));
+        }
+        writeKeyFile(keyPath, contentHash.get(), info.getMetadata());
+      }
+    } catch (IOException e) {
+      LOG.warn(e, "Artifact store(%s, %s) error", info.getRuleKeys(), output);
+    }
+
+    if (maxCacheSizeBytes.isPresent()
+        && bytesSinceLastEviction.get()
+            > (maxCacheSizeBytes.get() * STORED_TO_MAX_BYTES_RATIO_TRIM_TRIGGER)) {
+      scheduleEviction();
+    }
+
+    return Futures.immediateFuture(null);
+  }
+
+  /** Adds the artifact to the content store unless it's already there, and returns its hash. */
+  private String storeContent(BorrowablePath output) throws IOException {
+    String contentHash = filesystem.computeSha1(output.getPath()).getHash();
+    Path contentPath = getContentPath(contentHash);
+    if (filesystem.exists(contentPath)) {
+      // Protect the artifact from being deleted as an orphan before the key is written.
+      filesystem.setLastModifiedTime(contentPath, FileTime.fromMillis(System.currentTimeMillis()));
+      return contentHash;
+    }
+
+    // Write to a temporary file and move the file to its final location atomically to protect
+    // against partial artifacts (whether due to buck interruption or filesystem failure) posing
+    // as valid artifacts during subsequent buck runs.
+    Path tmp = filesystem.createTempFile(getPreparedTempFolder(), "artifact", TMP_EXTENSION);
+    try {
+      if (output.canBorrow()) {
+        // We are the only users of the output, so we can move it instead of copying it.
+        filesystem.move(output.getPath(), tmp, StandardCopyOption.REPLACE_EXISTING);
+      } else {
+        filesystem.copyFile(output.getPath(), tmp);
+      }
+      if (!filesystem.resolve(tmp).toFile().setReadOnly()) {
+        LOG.debug("Could not make %s read-only.", tmp);
+      }
+      filesystem.mkdirs(contentPath.getParent());
+      filesystem.move(tmp, contentPath, StandardCopyOption.REPLACE_EXISTING);
+      bytesSinceLastEviction.addAndGet(filesystem.getFileSize(contentPath));
+    } finally {
+      filesystem.deleteFileAtPathIfExists(tmp);
+    }
+    return contentHash;
+  }
+
+  private void writeKeyFile(Path keyPath, String contentHash, ImmutableMap<String, String> metadata)
+      throws IOException {
+    Path tmp = filesystem.createTempFile(getPreparedTempFolder(), "key", TMP_EXTENSION);
+    try {
+      try (DataOutputStream out = new DataOutputStream(filesystem.newFileOutputStream(tmp))) {
+        out.writeUTF(contentHash);
+        out.writeInt(metadata.size());
+        for (Map.Entry<String, String> ent : metadata.entrySet()) {
+          out.writeUTF(ent.getKey());
+          byte[] val = ent.getValue().getBytes(Charsets.UTF_8);
+          out.writeInt(val.length);
+          out.write(val);
+        }
+      }
+      filesystem.mkdirs(keyPath.getParent());
+      filesystem.move(tmp, keyPath, StandardCopyOption.REPLACE_EXISTING);
+      bytesSinceLastEviction.addAndGet(filesystem.getFileSize(keyPath));
+    } finally {
+      filesystem.deleteFileAtPathIfExists(tmp);
+    }
+  }
+
+  /** Reads the key file into {@code metadata} and returns the hash of the artifact it refers to. */
+  private String readKeyFile(Path keyPath, ImmutableMap.Builder<String, String> metadata)
+      throws IOException {
+    try (DataInputStream in = new DataInputStream(filesystem.newFileInputStream(keyPath))) {
+      String contentHash = in.readUTF();
+      int sz = in.readInt();
+      for (int i = 0; i < sz; i++) {
+        String key = in.readUTF();
+        int valSize = in.readInt();
+        byte[] val = new byte[valSize];
+        ByteStreams.readFully(in, val);
+        metadata.put(key, new String(val, Charsets.UTF_8));
+      }
+      return contentHash;
+    }
+  }
+
+  private Path getPreparedTempFolder() throws IOException {
+    Path tmp = cacheDir.resolve("tmp");
+    if (!filesystem.exists(tmp)) {
+      filesystem.mkdirs(tmp);
+    }
+    return tmp;
+  }
+
+  @VisibleForTesting
+  Path getKeyPath(RuleKey ruleKey) {
+    return getShardedPath(cacheDir.resolve("keys"), ruleKey.toString());
+  }
+
+  @VisibleForTesting
+  Path getContentPath(String contentHash) {
+    return getShardedPath(cacheDir.resolve("content"), contentHash);
+  }
+
+  private static Path getShardedPath(Path root, String name) {
+    if (name.length() < 4) {
+      return root.resolve(name);
+    }
+    return root.resolve(name.substring(0, 2)).resolve(name.substring(2, 4)).resolve(name);
+  }
+
+  @Override
+  public CacheReadMode getCacheReadMode() {
+    return cacheMode;
+  }
+
+  /**
+   * Checks whether old entries need to be evicted if the cache was written to, and waits for the
+   * evictions to finish, since the process may exit as soon as the cache is closed.
+   */
+  @Override
+  public void close() {
+    if (maxCacheSizeBytes.isPresent() && bytesSinceLastEviction.getAndSet(0) > 0) {
+      // Not through scheduleEviction(), as an eviction which is already running may have listed the
+      // entries before the last stores.
+      evictionExecutor.execute(this::evictOldEntries);
+    }
+    awaitEviction();
+  }
+
+  private void scheduleEviction() {
+    if (!maxCacheSizeBytes.isPresent() || !evictionScheduled.compareAndSet(false, true)) {
+      return;
+    }
+    bytesSinceLastEviction.set(0);
+    evictionExecutor.execute(
+        () -> {
+          try {
+            evictOldEntries();
+          } finally {
+            evictionScheduled.set(false);
+          }
+        });
+  }
+
+  private void awaitEviction() {
+    evictionExecutor.shutdown();
+    try {
+      if (!evictionExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+        LOG.warn("Timed out waiting for the eviction of old entries from [%s].", cacheDir);
+      }
+    } catch (InterruptedException e) {
+      Threads.interruptCurrentThread();
+    }
+  }
+
+  /** Evicts the least recently used rule keys until the cache fits in its size budget again. */
+  @VisibleForTesting
+  void evictOldEntries() {
+    long maxBytes = maxCacheSizeBytes.get();
+    long startMillis = System.currentTimeMillis();
+    try {
+      List<FileEntry> keys = listFiles(cacheDir.resolve("keys"));
+      Map<String, FileEntry> contents = new HashMap<>();
+      for (FileEntry content : listFiles(cacheDir.resolve("content"))) {
+        contents.put(content.path.getFileName().toString(), content);
+      }
+      long totalBytes = 0;
+      for (FileEntry entry : keys) {
+        totalBytes += entry.size;
+      }
+      for (FileEntry entry : contents.values()) {
+        totalBytes += entry.size;
+      }
+      if (totalBytes <= maxBytes) {
+        return;
+      }
+
+      Map<Path, String> contentHashes = new HashMap<>();
+      Map<String, Integer> referenceCounts = new HashMap<>();
+      for (FileEntry key : keys) {
+        try {
+          String contentHash = readKeyFile(key.path, ImmutableMap.builder());
+          contentHashes.put(key.path, contentHash);
+          referenceCounts.merge(contentHash, 1, Integer::sum);
+        } catch (IOException e) {
+          LOG.debug(e, "Ignoring unreadable key %s.", key.path);
+        }
+      }
+
+      long targetBytes = (long) (maxBytes * MAX_BYTES_TRIM_RATIO);
+      for (FileEntry content : contents.values()) {
+        if (!referenceCounts.containsKey(content.path.getFileName().toString())
+            && content.lastModifiedMillis < startMillis - ORPHANED_CONTENT_GRACE_MILLIS
+            && filesystem.deleteFileAtPathIfExists(content.path)) {
+          totalBytes -= content.size;
+        }
+      }
+
+      keys.sort(Comparator.comparingLong(entry -> entry.lastModifiedMillis));
+      for (FileEntry key : keys) {
+        if (totalBytes <= targetBytes) {
+          break;
+        }
+        if (!filesystem.deleteFileAtPathIfExists(key.path)) {
+          continue;
+        }
+        totalBytes -= key.size;
+        String contentHash = contentHashes.get(key.path);
+        if (contentHash != null && referenceCounts.merge(contentHash, -1, Integer::sum) == 0) {
+          FileEntry content = contents.get(contentHash);
+          if (content != null && filesystem.deleteFileAtPathIfExists(content.path)) {
+            totalBytes -= content.size;
+          }
+        }
+      }
+      LOG.debug(
+          "Evicted old entries from %s in %d ms, %d bytes left.",
+          cacheDir, System.currentTimeMillis() - startMillis, totalBytes);
+    } catch (IOException e) {
+      LOG.error(e, "Failed to evict old entries from [%s].", cacheDir);
+    }
+  }
+
+  private List<FileEntry> listFiles(Path dir) throws IOException {
+    List<FileEntry> files = new ArrayList<>();
+    Path root = filesystem.resolve(dir);
+    if (!Files.isDirectory(root)) {
+      return files;
+    }
+    Files.walkFileTree(
+        root,
+        new SimpleFileVisitor<Path>() {
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            files.add(new FileEntry(file, attrs.size(), attrs.lastModifiedTime().toMillis()));
+            return FileVisitResult.CONTINUE;
+          }
+        });
+    return files;
+  }
+
+  private static class FileEntry {
+    private final Path path;
+    private final long size;
+    private final long lastModifiedMillis;
+
+    private FileEntry(Path path, long size, long lastModifiedMillis) {
+      this.path = path;
+      this.size = size;
+      this.lastModifiedMillis = lastModifiedMillis;
+    }
+  }
+}
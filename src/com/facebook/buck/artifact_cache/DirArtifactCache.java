@@ -47,7 +47,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-public class DirArtifactCache implements ArtifactCache {
+public class DirArtifactCache implements LocalArtifactFileCache {
 
   private static final Logger LOG = Logger.get(DirArtifactCache.class);
 
@@ -95,26 +95,12 @@ public class DirArtifactCache implements ArtifactCache {
     CacheResult result;
     try {
       // First, build up the metadata from the metadata file.
-      ImmutableMap.Builder<String, String> metadata = ImmutableMap.builder();
-      try (DataInputStream in =
-          new DataInputStream(
-              filesystem.newFileInputStream(
-                  getPathForRuleKey(ruleKey, Optional.of(".metadata"))))) {
-        int sz = in.readInt();
-        for (int i = 0; i < sz; i++) {
-          String key = in.readUTF();
-          int valSize = in.readInt();
-          byte[] val = new byte[valSize];
-          ByteStreams.readFully(in, val);
-          metadata.put(key, new String(val, Charsets.UTF_8));
-        }
-      }
+      ImmutableMap<String, String> metadata = readMetadata(ruleKey);
 
       // Now copy the artifact out.
       filesystem.copyFile(getPathForRuleKey(ruleKey, Optional.empty()), output.get());
 
-      result =
-          CacheResult.hit(name, CACHE_MODE, metadata.build(), filesystem.getFileSize(output.get()));
+      result = CacheResult.hit(name, CACHE_MODE, metadata, filesystem.getFileSize(output.get()));
     } catch (NoSuchFileException e) {
       result = CacheResult.miss();
     } catch (IOException e) {
@@ -130,6 +116,65 @@ public class DirArtifactCache implements ArtifactCache {
     return result;
   }
 
+  @Override
+  public LocalArtifactFile lookupArtifactFile(RuleKey ruleKey) {
+    CacheResult result;
+    Optional<Path> artifactPath = Optional.empty();
+    try {
+      ImmutableMap<String, String> metadata = readMetadata(ruleKey);
+      Path path = filesystem.resolve(getPathForRuleKey(ruleKey, Optional.empty()));
+      result = CacheResult.hit(name, CACHE_MODE, metadata, Files.size(path));
+      artifactPath = Optional.of(path);
+    } catch (NoSuchFileException e) {
+      result = CacheResult.miss();
+    } catch (IOException e) {
+      LOG.warn(e, "Artifact lookup(%s) error", ruleKey);
+      result =
+          CacheResult.error(
+              name, CACHE_MODE, String.format("%s: %s", e.getClass(), e.getMessage()));
+    }
+
+    LOG.verbose(
+        "Artifact lookup(%s) cache %s", ruleKey, result.getType().isSuccess() ? "hit" : "miss");
+    return LocalArtifactFile.of(result, artifactPath);
+  }
+
+  private ImmutableMap<String, String> readMetadata(RuleKey ruleKey) throws IOException {
+    ImmutableMap.Builder<String, String> metadata = ImmutableMap.builder();
+    try (DataInputStream in =
+        new DataInputStream(
+            filesystem.newFileInputStream(getPathForRuleKey(ruleKey, Optional.of(".metadata"))))) {
+      int sz = in.readInt();
+      for (int i = 0; i < sz; i++) {
+        String key = in.readUTF();
+        int valSize = in.readInt();
+        byte[] val = new byte[valSize];
+        ByteStreams.readFully(in, val);
+        metadata.put(key, new String(val, Charsets.UTF_8));
+      }
+    }
+    return metadata.build();
+  }
+
+  @Override
+  public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+      ImmutableSet<RuleKey> ruleKeys) {
+    ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+    for (RuleKey ruleKey : ruleKeys) {
+      results.put(ruleKey, contains(ruleKey));
+    }
+    return Futures.immediateFuture(results.build());
+  }
+
+  private CacheResult contains(RuleKey ruleKey) {
+    // Both files need to be present for a fetch to succeed, but neither of them is read.
+    boolean found =
+        filesystem.exists(getPathForRuleKey(ruleKey, Optional.of(".metadata")))
+            && filesystem.exists(getPathForRuleKey(ruleKey, Optional.empty()));
+    LOG.verbose("Artifact contains(%s) cache %s", ruleKey, found ? "hit" : "miss");
+    return found ? CacheResult.contains(name, CACHE_MODE) : CacheResult.miss();
+  }
+
   @Override
   public ListenableFuture<Void> store(ArtifactInfo info, BorrowablePath output) {
 
@@ -0,0 +1,25 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+/** Describes how a dir cache lays out the artifacts it stores. */
+public enum DirCacheLayout {
+  // A copy of the artifact and its metadata per rule key, see DirArtifactCache.
+  RULE_KEY,
+  // Every distinct artifact once, referenced by rule key, see ContentAddressedDirArtifactCache.
+  CONTENT_ADDRESSED,
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.io.file.LazyPath;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import javax.annotation.Nullable;
+
+/**
+ * Writes a fetched payload to a temporary file next to the output, which is only moved into place
+ * by {@link #commit()} once the payload was verified. This makes sure we don't have half downloaded
+ * files in the output.
+ */
+class FileArtifactPayloadConsumer implements ArtifactPayloadConsumer {
+
+  private final ProjectFilesystem projectFilesystem;
+  private final LazyPath output;
+  @Nullable private Path temp;
+
+  FileArtifactPayloadConsumer(ProjectFilesystem projectFilesystem, LazyPath output) {
+    this.projectFilesystem = projectFilesystem;
+    this.output = output;
+  }
+
+  @Override
+  public void consume(ImmutableMap<String, String> metadata, InputStream payload)
+      throws IOException {
+    discard();
+    Path file = output.get();
+    projectFilesystem.createParentDirs(file);
+    temp =
+        projectFilesystem.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+    try (OutputStream out = projectFilesystem.newFileOutputStream(temp)) {
+      ByteStreams.copy(payload, out);
+    }
+  }
+
+  @Override
+  public void discard() throws IOException {
+    if (temp != null) {
+      projectFilesystem.deleteFileAtPathIfExists(temp);
+      temp = null;
+    }
+  }
+
+  /** Moves the consumed payload to the output. */
+  void commit() throws IOException {
+    Preconditions.checkState(temp != null, "Nothing was fetched to %s.", output);
+    projectFilesystem.move(temp, output.getUnchecked(), StandardCopyOption.REPLACE_EXISTING);
+    temp = null;
+  }
+}
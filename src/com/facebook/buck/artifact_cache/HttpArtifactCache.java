@@ -20,14 +20,14 @@ import com.facebook.buck.io.file.LazyPath;
 import com.facebook.buck.log.Logger;
 import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.slb.HttpResponse;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.io.ByteSource;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.RequestBody;
@@ -45,12 +45,24 @@ public final class HttpArtifactCache extends AbstractNetworkCache {
    */
   private static final Logger LOG = Logger.get(HttpArtifactCache.class);
 
+  /**
+   * Existence checks are a request per key, so use small batches to spread them over the fetch
+   * threads.
+   */
+  private static final int MULTI_CONTAINS_BATCH_SIZE = 32;
+
   public HttpArtifactCache(NetworkCacheArgs args) {
     super(args);
   }
 
   @Override
   protected FetchResult fetchImpl(RuleKey ruleKey, LazyPath output) throws IOException {
+    return fetchStreamingToFile(ruleKey, output);
+  }
+
+  @Override
+  protected FetchResult fetchStreamingImpl(
+      RuleKey ruleKey, LazyPath output, ArtifactPayloadConsumer consumer) throws IOException {
     FetchResult.Builder resultBuilder = FetchResult.builder();
     Request.Builder requestBuilder = new Request.Builder().get();
     try (HttpResponse response =
@@ -74,19 +86,16 @@ public final class HttpArtifactCache extends AbstractNetworkCache {
           return resultBuilder.setCacheResult(CacheResult.error(getName(), getMode(), msg)).build();
         }
 
-        // Setup a temporary file, which sits next to the destination, to write to and
-        // make sure all parent dirs exist.
-        Path file = output.get();
-        getProjectFilesystem().createParentDirs(file);
-        Path temp =
-            getProjectFilesystem()
-                .createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
-
-        FetchResponseReadResult fetchedData;
-        try (OutputStream tempFileOutputStream = getProjectFilesystem().newFileOutputStream(temp)) {
-          fetchedData =
-              HttpArtifactCacheBinaryProtocol.readFetchResponse(input, tempFileOutputStream);
-        }
+        // Hand the payload over while it is being read, but only if we were one of the rule keys
+        // that stored this artifact.
+        FetchResponseReadResult fetchedData =
+            HttpArtifactCacheBinaryProtocol.readFetchResponse(
+                input,
+                (ruleKeys, metadata, payload) -> {
+                  if (ruleKeys.contains(ruleKey)) {
+                    consumer.consume(metadata, payload);
+                  }
+                });
 
         resultBuilder
             .setBuildTarget(ArtifactCacheEvent.getTarget(fetchedData.getMetadata()))
@@ -100,18 +109,15 @@ public final class HttpArtifactCache extends AbstractNetworkCache {
           return resultBuilder.setCacheResult(CacheResult.error(getName(), getMode(), msg)).build();
         }
 
-        // Now form the checksum on the file we got and compare it to the checksum form the
-        // the HTTP header.  If it's incorrect, log this and return a miss.
+        // Now compare the checksum of the payload we got to the checksum from the header. If it's
+        // incorrect, log this, undo what the consumer did with the payload and return an error.
         if (!fetchedData.getExpectedHashCode().equals(fetchedData.getActualHashCode())) {
           String msg = "artifact had invalid checksum";
           reportFailureWithFormatKey("fetch(%s, %s): %s", response.requestUrl(), ruleKey, msg);
-          getProjectFilesystem().deleteFileAtPath(temp);
+          consumer.discard();
           return resultBuilder.setCacheResult(CacheResult.error(getName(), getMode(), msg)).build();
         }
 
-        // Finally, move the temp file into it's final place.
-        getProjectFilesystem().move(temp, file, StandardCopyOption.REPLACE_EXISTING);
-
         LOG.info("fetch(%s, %s): cache hit", response.requestUrl(), ruleKey);
         return resultBuilder
             .setCacheResult(
@@ -181,6 +187,45 @@ public final class HttpArtifactCache extends AbstractNetworkCache {
     return resultBuilder.build();
   }
 
+  @Override
+  protected int getMultiContainsBatchSize() {
+    return MULTI_CONTAINS_BATCH_SIZE;
+  }
+
+  @Override
+  protected ImmutableMap<RuleKey, CacheResult> multiContainsImpl(ImmutableSet<RuleKey> ruleKeys)
+      throws IOException {
+    ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+    for (RuleKey ruleKey : ruleKeys) {
+      results.put(ruleKey, contains(ruleKey));
+    }
+    return results.build();
+  }
+
+  private CacheResult contains(RuleKey ruleKey) throws IOException {
+    // A HEAD request on the fetch endpoint tells us whether the artifact exists without sending it.
+    Request.Builder requestBuilder = new Request.Builder().head();
+    try (HttpResponse response =
+        fetchClient.makeRequest("/artifacts/key/" + ruleKey.toString(), requestBuilder)) {
+      if (response.statusCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+        LOG.verbose("contains(%s, %s): cache miss", response.requestUrl(), ruleKey);
+        return CacheResult.miss();
+      }
+
+      if (response.statusCode() != HttpURLConnection.HTTP_OK) {
+        String msg =
+            String.format(
+                "unexpected server response: [%d:%s]",
+                response.statusCode(), response.statusMessage());
+        reportFailureWithFormatKey("contains(%s, %s): %s", response.requestUrl(), ruleKey, msg);
+        return CacheResult.error(getName(), getMode(), msg);
+      }
+
+      LOG.verbose("contains(%s, %s): cache hit", response.requestUrl(), ruleKey);
+      return CacheResult.contains(getName(), getMode());
+    }
+  }
+
   @Override
   protected MultiFetchResult multiFetchImpl(
       Iterable<AbstractAsynchronousCache.FetchRequest> requests) throws IOException {
@@ -22,6 +22,7 @@ import com.facebook.buck.util.hash.HasherOutputStream;
 import com.facebook.buck.util.immutables.BuckStyleImmutable;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.hash.HashCode;
@@ -30,6 +31,7 @@ import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteSource;
 import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
@@ -37,7 +39,10 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
 import org.immutables.value.Value;
 
 /** Implements the binary protocol used by Buck to talk to the cache server. */
@@ -53,9 +58,18 @@ public class HttpArtifactCacheBinaryProtocol {
 
   public static FetchResponseReadResult readFetchResponse(
       DataInputStream input, OutputStream payloadSink) throws IOException {
+    return readFetchResponse(input, copyPayloadTo(payloadSink));
+  }
+
+  /**
+   * Reads a fetch response, handing the payload to the given handler as it is read. The checksum
+   * of the response is only known once the whole payload was read.
+   */
+  public static FetchResponseReadResult readFetchResponse(
+      DataInputStream input, PayloadHandler payloadHandler) throws IOException {
 
     MetadataAndPayloadReadResultInternal resultInternal =
-        readMetadataAndPayload(input, payloadSink);
+        readMetadataAndPayload(input, payloadHandler);
 
     FetchResponseReadResult.Builder result = FetchResponseReadResult.builder().from(resultInternal);
     return result.build();
@@ -70,7 +84,7 @@ public class HttpArtifactCacheBinaryProtocol {
     }
 
     MetadataAndPayloadReadResultInternal resultInternal =
-        readMetadataAndPayload(input, payloadSink);
+        readMetadataAndPayload(input, copyPayloadTo(payloadSink));
 
     StoreResponseReadResult.Builder result = StoreResponseReadResult.builder().from(resultInternal);
     result.setRawKeys(rawRuleKeys.build());
@@ -79,6 +93,11 @@ public class HttpArtifactCacheBinaryProtocol {
 
   public static MetadataAndPayloadReadResultInternal readMetadataAndPayload(
       DataInputStream input, OutputStream payloadSink) throws IOException {
+    return readMetadataAndPayload(input, copyPayloadTo(payloadSink));
+  }
+
+  private static MetadataAndPayloadReadResultInternal readMetadataAndPayload(
+      DataInputStream input, PayloadHandler payloadHandler) throws IOException {
     // Read the size of a the metadata, and use that to build a input stream to read and
     // process the rest of it.
     int metadataSize = input.readInt();
@@ -90,6 +109,8 @@ public class HttpArtifactCacheBinaryProtocol {
     // Create a hasher to be used to generate a hash of the metadata and input.  We'll use
     // this to compare against the embedded checksum.
     Hasher hasher = HASH_FUNCTION.newHasher();
+    ImmutableSet.Builder<RuleKey> ruleKeys = ImmutableSet.builder();
+    ImmutableMap.Builder<String, String> metadata = ImmutableMap.builder();
     byte[] rawMetadata = new byte[metadataSize];
     ByteStreams.readFully(input, rawMetadata);
     try (InputStream rawMetadataIn = new ByteArrayInputStream(rawMetadata)) {
@@ -102,7 +123,7 @@ public class HttpArtifactCacheBinaryProtocol {
         // building up.
         int size = metadataIn.readInt();
         for (int i = 0; i < size; i++) {
-          result.addRuleKeys(new RuleKey(metadataIn.readUTF()));
+          ruleKeys.add(new RuleKey(metadataIn.readUTF()));
         }
 
         // Read in the actual metadata map, and add it the hash.
@@ -112,7 +133,7 @@ public class HttpArtifactCacheBinaryProtocol {
           int valSize = metadataIn.readInt();
           byte[] val = new byte[valSize];
           ByteStreams.readFully(metadataIn, val);
-          result.putMetadata(key, new String(val, Charsets.UTF_8));
+          metadata.put(key, new String(val, Charsets.UTF_8));
         }
       }
 
@@ -123,12 +144,20 @@ public class HttpArtifactCacheBinaryProtocol {
       result.setExpectedHashCode(HashCode.fromBytes(hashCodeBytes));
     }
 
-    // The remaining data is the payload, which we write to the created file, and also include
-    // in our verification checksum.
+    ImmutableSet<RuleKey> readRuleKeys = ruleKeys.build();
+    ImmutableMap<String, String> readMetadata = metadata.build();
+    result.setRuleKeys(readRuleKeys).setMetadata(readMetadata);
+
+    // The remaining data is the payload, which we hand to the handler, and also include in our
+    // verification checksum.
     Hasher artifactOnlyHasher = HASH_FUNCTION.newHasher();
-    try (InputStream payload =
-        new HasherInputStream(artifactOnlyHasher, new HasherInputStream(hasher, input))) {
-      result.setResponseSizeBytes(ByteStreams.copy(payload, payloadSink));
+    try (CountingInputStream payload =
+        new CountingInputStream(
+            new HasherInputStream(artifactOnlyHasher, new HasherInputStream(hasher, input)))) {
+      payloadHandler.handle(readRuleKeys, readMetadata, payload);
+      // Whatever the handler didn't read still has to be part of the checksum.
+      ByteStreams.exhaust(payload);
+      result.setResponseSizeBytes(payload.getCount());
       result.setArtifactOnlyHashCode(artifactOnlyHasher.hash());
     }
 
@@ -137,6 +166,20 @@ public class HttpArtifactCacheBinaryProtocol {
     return result.build();
   }
 
+  private static PayloadHandler copyPayloadTo(OutputStream payloadSink) {
+    return (ruleKeys, metadata, payload) -> ByteStreams.copy(payload, payloadSink);
+  }
+
+  /** Receives the payload of a response once its metadata has been read. */
+  public interface PayloadHandler {
+    /**
+     * @param payload the payload, which doesn't need to be read to its end and must not be closed.
+     */
+    void handle(
+        ImmutableSet<RuleKey> ruleKeys, ImmutableMap<String, String> metadata, InputStream payload)
+        throws IOException;
+  }
+
   @VisibleForTesting
   static byte[] createKeysHeader(ImmutableSet<RuleKey> ruleKeys) throws IOException {
     try (ByteArrayOutputStream out = new ByteArrayOutputStream();
@@ -153,9 +196,36 @@ public class HttpArtifactCacheBinaryProtocol {
   static byte[] createMetadataHeader(
       ImmutableSet<RuleKey> ruleKeys, ImmutableMap<String, String> metadata, ByteSource data)
       throws IOException {
+    Hasher hasher = HASH_FUNCTION.newHasher();
+    byte[] rawMetadata = createRawMetadata(ruleKeys, metadata, hasher);
 
-    ByteArrayOutputStream rawOut = new ByteArrayOutputStream();
+    // Add the file data contents to the end-to-end checksum.
+    data.copyTo(new HasherOutputStream(hasher, ByteStreams.nullOutputStream()));
+
+    return finishMetadataHeader(rawMetadata, hasher.hash());
+  }
+
+  /**
+   * Like {@link #createMetadataHeader(ImmutableSet, ImmutableMap, ByteSource)}, but takes the
+   * checksum of the data instead of reading it again.
+   */
+  @VisibleForTesting
+  static byte[] createMetadataHeader(
+      ImmutableSet<RuleKey> ruleKeys,
+      ImmutableMap<String, String> metadata,
+      long dataSize,
+      HashCode dataChecksum)
+      throws IOException {
     Hasher hasher = HASH_FUNCTION.newHasher();
+    byte[] rawMetadata = createRawMetadata(ruleKeys, metadata, hasher);
+    int checksum = combineCrc32(hasher.hash().asInt(), dataChecksum.asInt(), dataSize);
+    return finishMetadataHeader(rawMetadata, HashCode.fromInt(checksum));
+  }
+
+  private static byte[] createRawMetadata(
+      ImmutableSet<RuleKey> ruleKeys, ImmutableMap<String, String> metadata, Hasher hasher)
+      throws IOException {
+    ByteArrayOutputStream rawOut = new ByteArrayOutputStream();
     try (DataOutputStream out = new DataOutputStream(new HasherOutputStream(hasher, rawOut))) {
 
       // Write the rule keys to the raw metadata, including them in the end-to-end checksum.
@@ -176,21 +246,91 @@ public class HttpArtifactCacheBinaryProtocol {
         }
       }
     }
+    return rawOut.toByteArray();
+  }
 
-    // Add the file data contents to the end-to-end checksum.
-    data.copyTo(new HasherOutputStream(hasher, ByteStreams.nullOutputStream()));
-
+  private static byte[] finishMetadataHeader(byte[] rawMetadata, HashCode checksum)
+      throws IOException {
     // Finish the checksum, adding it to the raw metadata
-    rawOut.write(hasher.hash().asBytes());
-
-    // Finally, base64 encode the raw bytes to make usable in a HTTP header.
-    byte[] bytes = rawOut.toByteArray();
+    byte[] bytes = new byte[rawMetadata.length + checksum.bits() / Byte.SIZE];
+    System.arraycopy(rawMetadata, 0, bytes, 0, rawMetadata.length);
+    checksum.writeBytesTo(bytes, rawMetadata.length, bytes.length - rawMetadata.length);
     if (bytes.length > MAX_METADATA_HEADER_SIZE) {
       throw new IOException("Metadata header too big.");
     }
     return bytes;
   }
 
+  /** @return the checksum of a payload, as it goes into the end-to-end checksum of a response. */
+  public static HashCode checksumPayload(ByteBuffer payload) {
+    CRC32 crc = new CRC32();
+    crc.update(payload);
+    return HashCode.fromInt((int) crc.getValue());
+  }
+
+  /**
+   * Computes the CRC32 of the concatenation of two sequences from their CRC32s and the length of
+   * the second one, the same way zlib's crc32_combine does: appending {@code length2} zero bytes to
+   * the first sequence is a linear operation on its CRC, which is applied by repeatedly squaring
+   * the matrix of the operation for a single zero bit.
+   */
+  @VisibleForTesting
+  static int combineCrc32(int crc1, int crc2, long length2) {
+    if (length2 <= 0) {
+      return crc1;
+    }
+    long[] even = new long[32];
+    long[] odd = new long[32];
+
+    // The operator for one zero bit.
+    odd[0] = 0xedb88320L;
+    long row = 1;
+    for (int n = 1; n < 32; n++) {
+      odd[n] = row;
+      row <<= 1;
+    }
+    // The operators for two and four zero bits.
+    gf2MatrixSquare(even, odd);
+    gf2MatrixSquare(odd, even);
+
+    // Apply the operator for each set bit of the length in bytes, starting with one zero byte.
+    long crc = crc1 & 0xffffffffL;
+    long remaining = length2;
+    do {
+      gf2MatrixSquare(even, odd);
+      if ((remaining & 1) != 0) {
+        crc = gf2MatrixTimes(even, crc);
+      }
+      remaining >>= 1;
+      if (remaining == 0) {
+        break;
+      }
+      gf2MatrixSquare(odd, even);
+      if ((remaining & 1) != 0) {
+        crc = gf2MatrixTimes(odd, crc);
+      }
+      remaining >>= 1;
+    } while (remaining != 0);
+
+    return (int) (crc ^ (crc2 & 0xffffffffL));
+  }
+
+  private static long gf2MatrixTimes(long[] matrix, long vector) {
+    long sum = 0;
+    for (int i = 0; vector != 0; i++, vector >>>= 1) {
+      if ((vector & 1) != 0) {
+        sum ^= matrix[i];
+      }
+    }
+    return sum;
+  }
+
+  private static void gf2MatrixSquare(long[] square, long[] matrix) {
+    for (int n = 0; n < 32; n++) {
+      square[n] = gf2MatrixTimes(matrix, matrix[n]);
+    }
+  }
+
   public static class StoreRequest {
     private final ByteSource payloadSource;
     private final byte[] rawKeys;
@@ -227,7 +367,7 @@ public class HttpArtifactCacheBinaryProtocol {
   }
 
   public static class FetchResponse {
-    private final ByteSource payloadSource;
+    private final Optional<ByteSource> payloadSource;
     private final byte[] rawMetadata;
     private final long contentLength;
 
@@ -236,20 +376,46 @@ public class HttpArtifactCacheBinaryProtocol {
         ImmutableMap<String, String> metadata,
         ByteSource payloadSource)
         throws IOException {
-      this.payloadSource = payloadSource;
+      this.payloadSource = Optional.of(payloadSource);
       this.rawMetadata = createMetadataHeader(ruleKeys, metadata, payloadSource);
       this.contentLength = Integer.SIZE / Byte.SIZE + rawMetadata.length + payloadSource.size();
     }
 
+    /**
+     * Creates a response whose payload is sent by the caller after {@link #getResponseHeader()},
+     * so that it can be sent without going through a stream.
+     *
+     * @param payloadChecksum the checksum of the payload, see {@link #checksumPayload}.
+     */
+    public FetchResponse(
+        ImmutableSet<RuleKey> ruleKeys,
+        ImmutableMap<String, String> metadata,
+        long payloadSize,
+        HashCode payloadChecksum)
+        throws IOException {
+      this.payloadSource = Optional.empty();
+      this.rawMetadata = createMetadataHeader(ruleKeys, metadata, payloadSize, payloadChecksum);
+      this.contentLength = Integer.SIZE / Byte.SIZE + rawMetadata.length + payloadSize;
+    }
+
     public long getContentLength() {
       return contentLength;
     }
 
+    /** @return the bytes of the response which precede the payload. */
+    public byte[] getResponseHeader() {
+      return ByteBuffer.allocate(Integer.SIZE / Byte.SIZE + rawMetadata.length)
+          .putInt(rawMetadata.length)
+          .put(rawMetadata)
+          .array();
+    }
+
     public void write(OutputStream responseSink) throws IOException {
+      Preconditions.checkState(
+          payloadSource.isPresent(), "The payload of this response is sent by the caller.");
       try (DataOutputStream dataOutputStream = new DataOutputStream(responseSink)) {
-        dataOutputStream.writeInt(rawMetadata.length);
-        dataOutputStream.write(rawMetadata);
-        ByteStreams.copy(payloadSource.openStream(), responseSink);
+        dataOutputStream.write(getResponseHeader());
+        ByteStreams.copy(payloadSource.get().openStream(), responseSink);
       }
     }
   }
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.rules.RuleKey;
+
+/**
+ * An {@link ArtifactCache} which keeps the artifacts it stores in local files, so that they can be
+ * read, for example to serve them to other machines, without copying them out of the cache first.
+ */
+public interface LocalArtifactFileCache extends ArtifactCache {
+  /**
+   * Look up the file an artifact, keyed by ruleKey, is stored in. Like a fetch, this counts as an
+   * access of the artifact.
+   *
+   * @param ruleKey cache fetch key
+   * @return the result of the lookup, which, for hits, holds the file the artifact is stored in.
+   *     Hits for artifacts which aren't stored in a file of their own have no file, they still
+   *     need to be fetched with {@link #fetchAsync}.
+   */
+  LocalArtifactFile lookupArtifactFile(RuleKey ruleKey);
+}
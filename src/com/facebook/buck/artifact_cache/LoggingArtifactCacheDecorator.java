@@ -19,6 +19,7 @@ import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.io.file.BorrowablePath;
 import com.facebook.buck.io.file.LazyPath;
 import com.facebook.buck.rules.RuleKey;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -49,6 +50,12 @@ public class LoggingArtifactCacheDecorator implements ArtifactCache, CacheDecora
     return Futures.immediateFuture(fetchResult);
   }
 
+  @Override
+  public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+      ImmutableSet<RuleKey> ruleKeys) {
+    return delegate.containsAsync(ruleKeys);
+  }
+
   @Override
   public ListenableFuture<Void> store(ArtifactInfo info, BorrowablePath output) {
     ArtifactCacheEvent.Started started =
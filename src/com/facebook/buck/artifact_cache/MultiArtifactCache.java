@@ -23,11 +23,15 @@ import com.facebook.buck.util.MoreCollectors;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Functions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -58,10 +62,71 @@ public class MultiArtifactCache implements ArtifactCache {
    */
   @Override
   public ListenableFuture<CacheResult> fetchAsync(RuleKey ruleKey, LazyPath output) {
+    return fetchAsync(ruleKey, output, artifactCaches, ImmutableList.builder());
+  }
+
+  /**
+   * Streams the artifact from the first of the encapsulated ArtifactCaches which contains it.
+   * Artifacts found in a lower-priority cache are also stored to the writable caches before it, and
+   * storing needs the artifact on disk, so once a writable cache missed, the remaining caches are
+   * fetched from to spoolFile instead.
+   */
+  @Override
+  public ListenableFuture<CacheResult> fetchStreamingAsync(
+      RuleKey ruleKey, LazyPath spoolFile, ArtifactPayloadConsumer consumer) {
     ListenableFuture<CacheResult> cacheResult = Futures.immediateFuture(CacheResult.miss());
-    // This is the list of higher-priority caches that we should write the artifact to.
-    ImmutableList.Builder<ArtifactCache> cachesToFill = ImmutableList.builder();
-    for (ArtifactCache artifactCache : artifactCaches) {
+    for (int i = 0; i < artifactCaches.size(); i++) {
+      ArtifactCache artifactCache = artifactCaches.get(i);
+      if (artifactCache.getCacheReadMode().isWritable()) {
+        ImmutableList<ArtifactCache> remainingCaches =
+            artifactCaches.subList(i + 1, artifactCaches.size());
+        return Futures.transformAsync(
+            cacheResult,
+            (result) -> {
+              if (result.getType().isSuccess()) {
+                return Futures.immediateFuture(result);
+              }
+              return Futures.transformAsync(
+                  artifactCache.fetchStreamingAsync(ruleKey, spoolFile, consumer),
+                  (streamedResult) -> {
+                    if (streamedResult.getType().isSuccess()) {
+                      return Futures.immediateFuture(streamedResult);
+                    }
+                    ImmutableList.Builder<ArtifactCache> cachesToFill = ImmutableList.builder();
+                    cachesToFill.add(artifactCache);
+                    return Futures.transform(
+                        fetchAsync(ruleKey, spoolFile, remainingCaches, cachesToFill),
+                        (CacheResult fetchedResult) ->
+                            ArtifactPayloadConsumer.consumeFetchedFile(
+                                fetchedResult, spoolFile, consumer),
+                        MoreExecutors.directExecutor());
+                  },
+                  MoreExecutors.directExecutor());
+            },
+            MoreExecutors.directExecutor());
+      }
+      cacheResult =
+          Futures.transformAsync(
+              cacheResult,
+              (result) -> {
+                if (result.getType().isSuccess()) {
+                  return Futures.immediateFuture(result);
+                }
+                return artifactCache.fetchStreamingAsync(ruleKey, spoolFile, consumer);
+              },
+              MoreExecutors.directExecutor());
+    }
+    return cacheResult;
+  }
+
+  // cachesToFill is the list of higher-priority caches that we should write the artifact to.
+  private ListenableFuture<CacheResult> fetchAsync(
+      RuleKey ruleKey,
+      LazyPath output,
+      ImmutableList<ArtifactCache> caches,
+      ImmutableList.Builder<ArtifactCache> cachesToFill) {
+    ListenableFuture<CacheResult> cacheResult = Futures.immediateFuture(CacheResult.miss());
+    for (ArtifactCache artifactCache : caches) {
       cacheResult =
           Futures.transformAsync(
               cacheResult,
@@ -93,6 +158,61 @@ public class MultiArtifactCache implements ArtifactCache {
         MoreExecutors.directExecutor());
   }
 
+  /**
+   * Check the given keys against each of the encapsulated ArtifactCaches in turn. Only the keys
+   * which were not found in one cache are checked against the next one.
+   */
+  @Override
+  public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+      ImmutableSet<RuleKey> ruleKeys) {
+    Map<RuleKey, CacheResult> initialResults = new HashMap<>();
+    ruleKeys.forEach(ruleKey -> initialResults.put(ruleKey, CacheResult.miss()));
+    ListenableFuture<Map<RuleKey, CacheResult>> resultsFuture =
+        Futures.immediateFuture(initialResults);
+    for (ArtifactCache artifactCache : artifactCaches) {
+      resultsFuture =
+          Futures.transformAsync(
+              resultsFuture,
+              (results) -> {
+                ImmutableSet<RuleKey> remainingKeys =
+                    results
+                        .entrySet()
+                        .stream()
+                        .filter(entry -> entry.getValue().getType() != CacheResultType.CONTAINS)
+                        .map(Map.Entry::getKey)
+                        .collect(MoreCollectors.toImmutableSet());
+                if (remainingKeys.isEmpty()) {
+                  return Futures.immediateFuture(results);
+                }
+                return Futures.transform(
+                    artifactCache.containsAsync(remainingKeys),
+                    (ImmutableMap<RuleKey, CacheResult> cacheResults) -> {
+                      // A key an earlier cache could not check may still be present there, so a
+                      // miss in a later cache doesn't settle it.
+                      cacheResults.forEach(
+                          (ruleKey, result) ->
+                              results.merge(
+                                  ruleKey,
+                                  result,
+                                  (previous, latest) ->
+                                      previous.getType() == CacheResultType.SKIPPED
+                                              && latest.getType() == CacheResultType.MISS
+                                          ? previous
+                                          : latest));
+                      return results;
+                    },
+                    MoreExecutors.directExecutor());
+              },
+              MoreExecutors.directExecutor());
+    }
+
+    return Futures.transform(
+        resultsFuture,
+        (Map<RuleKey, CacheResult> results) ->
+            ruleKeys.stream().collect(MoreCollectors.toImmutableMap(k -> k, results::get)),
+        MoreExecutors.directExecutor());
+  }
+
   private static ListenableFuture<Void> storeToCaches(
       ImmutableList<ArtifactCache> caches, ArtifactInfo info, BorrowablePath output) {
     // TODO(cjhopman): support BorrowablePath with multiple writable caches.
@@ -19,6 +19,9 @@ package com.facebook.buck.artifact_cache;
 import com.facebook.buck.io.file.BorrowablePath;
 import com.facebook.buck.io.file.LazyPath;
 import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.util.MoreCollectors;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 
@@ -29,6 +32,16 @@ public class NoopArtifactCache implements ArtifactCache {
     return Futures.immediateFuture(CacheResult.miss());
   }
 
+  @Override
+  public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+      ImmutableSet<RuleKey> ruleKeys) {
+    return Futures.immediateFuture(
+        ruleKeys
+            .stream()
+            .collect(
+                MoreCollectors.toImmutableMap(ruleKey -> ruleKey, ruleKey -> CacheResult.miss())));
+  }
+
   @Override
   public ListenableFuture<Void> store(ArtifactInfo info, BorrowablePath output) {
     return Futures.immediateFuture(null);
@@ -23,11 +23,17 @@ import com.facebook.buck.io.file.LazyPath;
 import com.facebook.buck.log.Logger;
 import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.slb.NoHealthyServersException;
+import com.facebook.buck.util.MoreCollectors;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 public class RetryingCacheDecorator implements ArtifactCache, CacheDecorator {
 
@@ -53,8 +59,21 @@ public class RetryingCacheDecorator implements ArtifactCache, CacheDecorator {
 
   @Override
   public ListenableFuture<CacheResult> fetchAsync(RuleKey ruleKey, LazyPath output) {
+    return fetchWithRetries(ruleKey, () -> delegate.fetchAsync(ruleKey, output));
+  }
+
+  @Override
+  public ListenableFuture<CacheResult> fetchStreamingAsync(
+      RuleKey ruleKey, LazyPath spoolFile, ArtifactPayloadConsumer consumer) {
+    // The delegate has the consumer discard failed attempts, so they can simply be retried.
+    return fetchWithRetries(
+        ruleKey, () -> delegate.fetchStreamingAsync(ruleKey, spoolFile, consumer));
+  }
+
+  private ListenableFuture<CacheResult> fetchWithRetries(
+      RuleKey ruleKey, Supplier<ListenableFuture<CacheResult>> fetch) {
     List<String> allCacheErrors = new ArrayList<>();
-    ListenableFuture<CacheResult> resultFuture = delegate.fetchAsync(ruleKey, output);
+    ListenableFuture<CacheResult> resultFuture = fetch.get();
     for (int retryCount = 1; retryCount < maxFetchRetries; retryCount++) {
       int retryCountForLambda = retryCount;
       resultFuture =
@@ -68,7 +87,7 @@ public class RetryingCacheDecorator implements ArtifactCache, CacheDecorator {
                 LOG.info(
                     "Failed to fetch %s after %d/%d attempts, exception: %s",
                     ruleKey, retryCountForLambda + 1, maxFetchRetries, result.cacheError());
-                return delegate.fetchAsync(ruleKey, output);
+                return fetch.get();
               });
     }
     return Futures.transform(
@@ -88,6 +107,42 @@ public class RetryingCacheDecorator implements ArtifactCache, CacheDecorator {
         });
   }
 
+  @Override
+  public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+      ImmutableSet<RuleKey> ruleKeys) {
+    ListenableFuture<ImmutableMap<RuleKey, CacheResult>> resultsFuture =
+        delegate.containsAsync(ruleKeys);
+    for (int retryCount = 1; retryCount < maxFetchRetries; retryCount++) {
+      int retryCountForLambda = retryCount;
+      resultsFuture =
+          Futures.transformAsync(
+              resultsFuture,
+              results -> {
+                ImmutableSet<RuleKey> failedKeys =
+                    results
+                        .entrySet()
+                        .stream()
+                        .filter(entry -> entry.getValue().getType() == CacheResultType.ERROR)
+                        .map(Map.Entry::getKey)
+                        .collect(MoreCollectors.toImmutableSet());
+                if (failedKeys.isEmpty()) {
+                  return Futures.immediateFuture(results);
+                }
+                LOG.info(
+                    "Failed to check %d keys after %d/%d attempts.",
+                    failedKeys.size(), retryCountForLambda, maxFetchRetries);
+                return Futures.transform(
+                    delegate.containsAsync(failedKeys),
+                    retriedResults -> {
+                      Map<RuleKey, CacheResult> merged = new LinkedHashMap<>(results);
+                      merged.putAll(retriedResults);
+                      return ImmutableMap.copyOf(merged);
+                    });
+              });
+    }
+    return resultsFuture;
+  }
+
   @Override
   public ArtifactCache getDelegate() {
     return delegate;
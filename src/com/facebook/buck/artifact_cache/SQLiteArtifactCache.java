@@ -29,6 +29,7 @@ import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.sqlite.RetryBusyHandler;
 import com.facebook.buck.sqlite.SQLiteUtils;
 import com.facebook.buck.util.HumanReadableException;
+import com.facebook.buck.util.MoreCollectors;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
 import com.google.common.base.Functions;
@@ -60,6 +61,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
 import org.sqlite.BusyHandler;
 import org.sqlite.SQLiteConfig;
 
@@ -70,7 +72,7 @@ import org.sqlite.SQLiteConfig;
  * entry. Content entries with sufficiently small content will have their artifacts inlined into the
  * database for improved performance.
  */
-public class SQLiteArtifactCache implements ArtifactCache {
+public class SQLiteArtifactCache implements LocalArtifactFileCache {
 
   private static final Logger LOG = Logger.get(SQLiteArtifactCache.class);
 
@@ -223,6 +225,80 @@ public class SQLiteArtifactCache implements ArtifactCache {
     }
   }
 
+  @Override
+  public LocalArtifactFile lookupArtifactFile(RuleKey ruleKey) {
+    CacheResult result;
+    Optional<Path> artifactPath = Optional.empty();
+    try {
+      Optional<Content> content = db.selectContent(ruleKey);
+      Optional<byte[]> metadata = db.selectMetadata(ruleKey);
+      Optional<Path> path =
+          content
+              .filter(c -> Objects.isNull(c.artifact))
+              .map(c -> filesystem.resolve(c.filepath))
+              .filter(Files::exists);
+      if (path.isPresent()) {
+        db.accessContent(ruleKey);
+        if (metadata.isPresent()) {
+          db.accessMetadata(ruleKey);
+        }
+        result =
+            CacheResult.hit(
+                name,
+                CACHE_MODE,
+                metadata.isPresent() ? unmarshalMetadata(metadata.get()) : ImmutableMap.of(),
+                content.get().size);
+        artifactPath = path;
+      } else if (content.isPresent() || metadata.isPresent()) {
+        // Inlined artifacts, and entries whose artifact was removed, are left to a fetch.
+        result = CacheResult.hit(name, CACHE_MODE);
+      } else {
+        result = CacheResult.miss();
+      }
+    } catch (IOException | SQLException e) {
+      LOG.warn(e, "Artifact lookup(%s) error", ruleKey);
+      result =
+          CacheResult.error(
+              name, CACHE_MODE, String.format("%s: %s", e.getClass(), e.getMessage()));
+    }
+
+    LOG.verbose(
+        "Artifact lookup(%s) cache %s", ruleKey, result.getType().isSuccess() ? "hit" : "miss");
+    return LocalArtifactFile.of(result, artifactPath);
+  }
+
+  @Override
+  public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+      ImmutableSet<RuleKey> ruleKeys) {
+    ImmutableMap<RuleKey, CacheResult> results;
+    try {
+      // Like fetch, a key is present if it has either metadata or content.
+      ImmutableSet<RuleKey> contained =
+          db.selectContained(
+              ruleKeys, filepath -> filesystem.exists(filesystem.resolve(filepath)));
+      results =
+          ruleKeys
+              .stream()
+              .collect(
+                  MoreCollectors.toImmutableMap(
+                      ruleKey -> ruleKey,
+                      ruleKey ->
+                          contained.contains(ruleKey)
+                              ? CacheResult.contains(name, CACHE_MODE)
+                              : CacheResult.miss()));
+    } catch (SQLException e) {
+      LOG.warn(e, "Artifact contains(%d keys) error", ruleKeys.size());
+      CacheResult error =
+          CacheResult.error(
+              name, CACHE_MODE, String.format("%s: %s", e.getClass(), e.getMessage()));
+      results =
+          ruleKeys
+              .stream()
+              .collect(MoreCollectors.toImmutableMap(ruleKey -> ruleKey, ruleKey -> error));
+    }
+    return Futures.immediateFuture(results);
+  }
+
   @Override
   public ListenableFuture<Void> store(ArtifactInfo info, BorrowablePath content) {
     if (!getCacheReadMode().isWritable()) {
@@ -520,6 +596,9 @@ public class SQLiteArtifactCache implements ArtifactCache {
     private final PreparedStatement fetchMetadata;
     private final PreparedStatement fetchContent;
 
+    private final PreparedStatement containsMetadata;
+    private final PreparedStatement containsContent;
+
     private final PreparedStatement updateMetadataTime;
     private final PreparedStatement updateContentTime;
 
@@ -582,6 +661,9 @@ public class SQLiteArtifactCache implements ArtifactCache {
           connection.prepareStatement(
               "SELECT artifact, filepath, size FROM content WHERE sha1 = ?");
 
+      containsMetadata = connection.prepareStatement("SELECT 1 FROM metadata WHERE rulekey = ?");
+      containsContent = connection.prepareStatement("SELECT filepath FROM content WHERE sha1 = ?");
+
       updateMetadataTime =
           connection.prepareStatement(
               "UPDATE metadata SET accessed = CURRENT_TIMESTAMP WHERE rulekey = ?");
@@ -627,6 +709,32 @@ public class SQLiteArtifactCache implements ArtifactCache {
           : Optional.empty();
     }
 
+    /**
+     * @return the keys which have metadata, or content which is either inlined or stored in a file
+     *     accepted by {@code contentFileExists}.
+     */
+    private synchronized ImmutableSet<RuleKey> selectContained(
+        ImmutableSet<RuleKey> ruleKeys, Predicate<String> contentFileExists) throws SQLException {
+      ImmutableSet.Builder<RuleKey> contained = ImmutableSet.builder();
+      for (RuleKey ruleKey : ruleKeys) {
+        containsMetadata.setBytes(1, getBytes(ruleKey));
+        try (ResultSet rs = containsMetadata.executeQuery()) {
+          if (rs.next()) {
+            contained.add(ruleKey);
+            continue;
+          }
+        }
+        containsContent.setBytes(1, getBytes(ruleKey));
+        try (ResultSet rs = containsContent.executeQuery()) {
+          // from database constraint, a null filepath means the artifact is inlined
+          if (rs.next() && (rs.getString(1) == null || contentFileExists.test(rs.getString(1)))) {
+            contained.add(ruleKey);
+          }
+        }
+      }
+      return contained.build();
+    }
+
     private synchronized void accessMetadata(RuleKey ruleKey) throws SQLException {
       updateMetadataTime.setBytes(1, getBytes(ruleKey));
       updateMetadataTime.executeUpdate();
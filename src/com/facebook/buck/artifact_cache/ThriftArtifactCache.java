@@ -85,6 +85,12 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
 
   @Override
   protected FetchResult fetchImpl(RuleKey ruleKey, LazyPath output) throws IOException {
+    return fetchStreamingToFile(ruleKey, output);
+  }
+
+  @Override
+  protected FetchResult fetchStreamingImpl(
+      RuleKey ruleKey, LazyPath output, ArtifactPayloadConsumer consumer) throws IOException {
     FetchResult.Builder resultBuilder = FetchResult.builder();
 
     BuckCacheFetchRequest fetchRequest = new BuckCacheFetchRequest();
@@ -148,19 +154,6 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
           return resultBuilder.setCacheResult(CacheResult.miss()).build();
         }
 
-        LOG.verbose("Got artifact.  Attempting to read payload.");
-        Path tmp = createTempFileForDownload();
-        ThriftArtifactCacheProtocol.Response.ReadPayloadInfo readResult;
-        try (OutputStream tmpFile = getProjectFilesystem().newFileOutputStream(tmp)) {
-          try {
-            readResult = response.readPayload(tmpFile);
-          } catch (IOException e) {
-            LOG.debug(e, "encountered an exception while receiving the payload for %s", ruleKey);
-            throw e;
-          }
-          LOG.verbose("Successfully read payload: %d bytes.", readResult.getBytesRead());
-        }
-
         if (!fetchResponse.isSetMetadata()) {
           String msg =
               String.format(
@@ -194,6 +187,19 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
           return resultBuilder.setCacheResult(CacheResult.error(getName(), getMode(), msg)).build();
         }
 
+        LOG.verbose("Got artifact.  Attempting to read payload.");
+        ThriftArtifactCacheProtocol.Response.ReadPayloadInfo readResult;
+        try {
+          readResult =
+              response.readPayload(
+                  payload ->
+                      consumer.consume(ImmutableMap.copyOf(metadata.getMetadata()), payload));
+        } catch (IOException e) {
+          LOG.debug(e, "encountered an exception while receiving the payload for %s", ruleKey);
+          throw e;
+        }
+        LOG.verbose("Successfully read payload: %d bytes.", readResult.getBytesRead());
+
         resultBuilder
             .setBuildTarget(Optional.ofNullable(metadata.getBuildTarget()))
             .setAssociatedRuleKeys(associatedRuleKeys)
@@ -211,14 +217,13 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
                     "The artifact fetched from cache is corrupted. ExpectedMD5=[%s] ActualMD5=[%s]",
                     fetchResponse.getMetadata().getArtifactPayloadMd5(), readResult.getMd5Hash());
             LOG.error(msg);
+            consumer.discard();
             return resultBuilder
                 .setCacheResult(CacheResult.error(getName(), getMode(), msg))
                 .build();
           }
         }
 
-        // This makes sure we don't have 'half downloaded files' in the dir cache.
-        getProjectFilesystem().move(tmp, output.get(), StandardCopyOption.REPLACE_EXISTING);
         return resultBuilder
             .setCacheResult(
                 CacheResult.hit(
@@ -252,7 +257,7 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
     String joinedKeys = Joiner.on(", ").join(keys);
     LOG.verbose("Will fetch keys <%s>", joinedKeys);
 
-    BuckCacheRequest cacheRequest = createMultiFetchRequest(keys);
+    BuckCacheRequest cacheRequest = createMultiKeyRequest(BuckCacheRequestType.MULTI_FETCH, keys);
     try (HttpResponse httpResponse =
         fetchClient.makeRequest(
             hybridThriftEndpoint,
@@ -270,7 +275,95 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
     return thriftRuleKey;
   }
 
-  private BuckCacheRequest createMultiFetchRequest(ImmutableList<RuleKey> keys) {
+  @Override
+  protected ImmutableMap<RuleKey, CacheResult> multiContainsImpl(ImmutableSet<RuleKey> ruleKeys)
+      throws IOException {
+    ImmutableList<RuleKey> keys = ruleKeys.asList();
+    LOG.verbose("Will check keys <%s>", Joiner.on(", ").join(keys));
+
+    BuckCacheRequest cacheRequest =
+        createMultiKeyRequest(BuckCacheRequestType.MULTI_CONTAINS, keys);
+    try (HttpResponse httpResponse =
+        fetchClient.makeRequest(
+            hybridThriftEndpoint,
+            toOkHttpRequest(ThriftArtifactCacheProtocol.createRequest(PROTOCOL, cacheRequest)))) {
+      if (httpResponse.statusCode() != 200) {
+        String message =
+            String.format(
+                "Failed to check cache artifacts with HTTP status code [%d:%s] "
+                    + " to url [%s] for %d rule keys.",
+                httpResponse.statusCode(),
+                httpResponse.statusMessage(),
+                httpResponse.requestUrl(),
+                keys.size());
+        LOG.error(message);
+        return toSingleResultMap(keys, CacheResult.error(getName(), getMode(), message));
+      }
+
+      try (ThriftArtifactCacheProtocol.Response response =
+          ThriftArtifactCacheProtocol.parseResponse(PROTOCOL, httpResponse.getBody())) {
+        BuckCacheResponse cacheResponse = response.getThriftData();
+        if (!cacheResponse.isWasSuccessful()) {
+          String message = cacheResponse.getErrorMessage();
+          LOG.warn("Request was unsuccessful: %s", message);
+          return toSingleResultMap(keys, CacheResult.error(getName(), getMode(), message));
+        }
+
+        if (LOG.isDebugEnabled()) {
+          LOG.debug(
+              "Debug info for cache multiContains request: request=[%s] response=[%s]",
+              ThriftUtil.thriftToDebugJson(cacheRequest),
+              ThriftUtil.thriftToDebugJson(cacheResponse));
+        }
+
+        BuckCacheMultiFetchResponse containsResponse = cacheResponse.getMultiFetchResponse();
+        if (containsResponse == null || containsResponse.getResultsSize() != keys.size()) {
+          String message =
+              String.format(
+                  "Response had incorrect results size expected=%d actual=%d",
+                  keys.size(), containsResponse == null ? 0 : containsResponse.getResultsSize());
+          LOG.warn(message);
+          return toSingleResultMap(keys, CacheResult.error(getName(), getMode(), message));
+        }
+
+        ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+        for (int i = 0; i < keys.size(); i++) {
+          results.put(keys.get(i), convertContainsResult(containsResponse.getResults().get(i)));
+        }
+        return results.build();
+      }
+    }
+  }
+
+  private CacheResult convertContainsResult(
+      com.facebook.buck.artifact_cache.thrift.FetchResult containsResult) {
+    FetchResultType resultType = containsResult.getResultType();
+    if (resultType == null) {
+      return CacheResult.error(getName(), getMode(), "Got result without a type");
+    }
+    switch (resultType) {
+      case CONTAINS:
+      case HIT:
+        return CacheResult.contains(getName(), getMode());
+      case MISS:
+        return CacheResult.miss();
+      case SKIPPED:
+        return CacheResult.skipped();
+      case UNKNOWN:
+      case ERROR:
+      default:
+        return CacheResult.error(
+            getName(), getMode(), String.format("Got bad result of type %s", resultType));
+    }
+  }
+
+  private static ImmutableMap<RuleKey, CacheResult> toSingleResultMap(
+      ImmutableList<RuleKey> keys, CacheResult result) {
+    return keys.stream().collect(MoreCollectors.toImmutableMap(k -> k, k -> result));
+  }
+
+  private BuckCacheRequest createMultiKeyRequest(
+      BuckCacheRequestType type, ImmutableList<RuleKey> keys) {
     BuckCacheMultiFetchRequest multiFetchRequest = new BuckCacheMultiFetchRequest();
     multiFetchRequest.setRepository(getRepository());
     multiFetchRequest.setScheduleType(scheduleType);
@@ -278,7 +371,7 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
     keys.forEach(k -> multiFetchRequest.addToRuleKeys(toThriftRuleKey(k)));
 
     BuckCacheRequest cacheRequest = new BuckCacheRequest();
-    cacheRequest.setType(BuckCacheRequestType.MULTI_FETCH);
+    cacheRequest.setType(type);
     cacheRequest.setMultiFetchRequest(multiFetchRequest);
     return cacheRequest;
   }
@@ -25,9 +25,11 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
 import com.google.common.hash.HashingOutputStream;
 import com.google.common.io.ByteSource;
 import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
 import java.io.Closeable;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
@@ -199,6 +201,42 @@ public class ThriftArtifactCacheProtocol {
       }
     }
 
+    /**
+     * Reads the next payload by handing a stream of it to the given consumer. Whatever the consumer
+     * doesn't read is skipped, and still counts towards the hash of the payload.
+     */
+    public ReadPayloadInfo readPayload(PayloadConsumer consumer) throws IOException {
+      assertTrue(
+          nextPayloadToBeRead < thriftData.getPayloadsSize(),
+          "Trying to download payload index=[%s] but the thriftData only contains [%s] payloads.",
+          nextPayloadToBeRead,
+          thriftData.getPayloadsSize());
+
+      long payloadSizeBytes =
+          assertNotNull(thriftData.getPayloads(), "Payloads[] cannot be null.")
+              .get(nextPayloadToBeRead)
+              .getSizeBytes();
+      HashingInputStream payload =
+          new HashingInputStream(
+              MD5_HASH_FUNCTION, ByteStreams.limit(responseStream, payloadSizeBytes));
+      CountingInputStream countingPayload = new CountingInputStream(payload);
+      consumer.consume(countingPayload);
+      ByteStreams.exhaust(countingPayload);
+      if (countingPayload.getCount() < payloadSizeBytes) {
+        throw new IOException(
+            String.format(
+                "InputStream was missing [%d] bytes. Expected to read a total of [%d] bytes.",
+                payloadSizeBytes - countingPayload.getCount(), payloadSizeBytes));
+      }
+      ++nextPayloadToBeRead;
+      return new ReadPayloadInfo(payloadSizeBytes, payload.hash().toString());
+    }
+
+    /** Receives the stream of a payload, which doesn't need to be read to its end. */
+    public interface PayloadConsumer {
+      void consume(InputStream payload) throws IOException;
+    }
+
     @Override
     public void close() throws IOException {
       responseStream.close();
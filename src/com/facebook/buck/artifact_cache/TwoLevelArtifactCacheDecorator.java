@@ -36,8 +36,11 @@ import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiFunction;
 
 /**
  * The {@link DirArtifactCache} and {@link HttpArtifactCache} caches use a straightforward rulekey
@@ -113,8 +116,29 @@ public class TwoLevelArtifactCacheDecorator implements ArtifactCache, CacheDecor
 
   @Override
   public ListenableFuture<CacheResult> fetchAsync(RuleKey ruleKey, LazyPath output) {
-    return Futures.transformAsync(
+    return fetch(
         delegate.fetchAsync(ruleKey, output),
+        (contentHashKey, firstLevelMetadata) -> delegate.fetchAsync(contentHashKey, output));
+  }
+
+  @Override
+  public ListenableFuture<CacheResult> fetchStreamingAsync(
+      RuleKey ruleKey, LazyPath spoolFile, ArtifactPayloadConsumer consumer) {
+    return fetch(
+        delegate.fetchStreamingAsync(ruleKey, spoolFile, new SingleLevelPayloadConsumer(consumer)),
+        (contentHashKey, firstLevelMetadata) ->
+            delegate.fetchStreamingAsync(
+                contentHashKey,
+                spoolFile,
+                new SecondLevelPayloadConsumer(consumer, firstLevelMetadata)));
+  }
+
+  private ListenableFuture<CacheResult> fetch(
+      ListenableFuture<CacheResult> firstLevelFetch,
+      BiFunction<RuleKey, ImmutableMap<String, String>, ListenableFuture<CacheResult>>
+          secondLevelFetch) {
+    return Futures.transformAsync(
+        firstLevelFetch,
         (CacheResult fetchResult) -> {
           if (!fetchResult.getType().isSuccess()) {
             LOG.verbose("Missed first-level lookup.");
@@ -127,7 +151,7 @@ public class TwoLevelArtifactCacheDecorator implements ArtifactCache, CacheDecor
 
           String contentHashKey = fetchResult.getMetadata().get(METADATA_KEY);
           ListenableFuture<CacheResult> outputFileFetchResultFuture =
-              delegate.fetchAsync(new RuleKey(contentHashKey), output);
+              secondLevelFetch.apply(new RuleKey(contentHashKey), fetchResult.getMetadata());
 
           return Futures.transformAsync(
               outputFileFetchResultFuture,
@@ -166,6 +190,32 @@ public class TwoLevelArtifactCacheDecorator implements ArtifactCache, CacheDecor
         MoreExecutors.directExecutor());
   }
 
+  /**
+   * Only misses can be told from the rule key alone. A present key may be a first-level entry whose
+   * second-level entry was evicted, which can only be found out from the content hash in its
+   * metadata. Reading that metadata means fetching the key, which for single-level entries moves
+   * the whole artifact, so present keys are reported as {@link CacheResultType#SKIPPED} and left to
+   * a fetch. See {@link ArtifactCache#containsAsync(ImmutableSet)}.
+   */
+  @Override
+  public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+      ImmutableSet<RuleKey> ruleKeys) {
+    return Futures.transform(
+        delegate.containsAsync(ruleKeys),
+        results -> {
+          ImmutableMap.Builder<RuleKey, CacheResult> checked = ImmutableMap.builder();
+          for (Map.Entry<RuleKey, CacheResult> entry : results.entrySet()) {
+            checked.put(
+                entry.getKey(),
+                entry.getValue().getType() == CacheResultType.CONTAINS
+                    ? CacheResult.skipped()
+                    : entry.getValue());
+          }
+          return checked.build();
+        },
+        MoreExecutors.directExecutor());
+  }
+
   @Override
   public ListenableFuture<Void> store(final ArtifactInfo info, final BorrowablePath output) {
 
@@ -220,17 +270,83 @@ public class TwoLevelArtifactCacheDecorator implements ArtifactCache, CacheDecor
                               .build(),
                           BorrowablePath.notBorrowablePath(emptyFilePath)),
                       delegate.store(
-                          ArtifactInfo.builder().addRuleKeys(new RuleKey(hashCode)).build(),
+                          ArtifactInfo.builder()
+                              .addRuleKeys(new RuleKey(hashCode))
+                              .setMetadata(getSecondLevelMetadata(info.getMetadata()))
+                              .build(),
                           output)),
                   Functions.constant(true));
             });
   }
 
+  /**
+   * Second-level entries are shared by all the rule keys whose artifacts have the same contents, so
+   * they only record how their contents are packed.
+   */
+  private static ImmutableMap<String, String> getSecondLevelMetadata(
+      ImmutableMap<String, String> metadata) {
+    String containerFormat = metadata.get(ArtifactContainerFormat.METADATA_KEY);
+    return containerFormat == null
+        ? ImmutableMap.of()
+        : ImmutableMap.of(ArtifactContainerFormat.METADATA_KEY, containerFormat);
+  }
+
   @Override
   public CacheReadMode getCacheReadMode() {
     return delegate.getCacheReadMode();
   }
 
+  /**
+   * Passes on the payloads of single-level entries, and skips the empty payloads of first-level
+   * entries which only point at the second-level entry holding the artifact.
+   */
+  private static class SingleLevelPayloadConsumer implements ArtifactPayloadConsumer {
+    private final ArtifactPayloadConsumer delegate;
+
+    private SingleLevelPayloadConsumer(ArtifactPayloadConsumer delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void consume(ImmutableMap<String, String> metadata, InputStream payload)
+        throws IOException {
+      if (!metadata.containsKey(METADATA_KEY)) {
+        delegate.consume(metadata, payload);
+      }
+    }
+
+    @Override
+    public void discard() throws IOException {
+      delegate.discard();
+    }
+  }
+
+  /**
+   * Passes on the payloads of second-level entries with the metadata of the first-level entry
+   * pointing at them, which is what the artifact was stored with.
+   */
+  private static class SecondLevelPayloadConsumer implements ArtifactPayloadConsumer {
+    private final ArtifactPayloadConsumer delegate;
+    private final ImmutableMap<String, String> firstLevelMetadata;
+
+    private SecondLevelPayloadConsumer(
+        ArtifactPayloadConsumer delegate, ImmutableMap<String, String> firstLevelMetadata) {
+      this.delegate = delegate;
+      this.firstLevelMetadata = firstLevelMetadata;
+    }
+
+    @Override
+    public void consume(ImmutableMap<String, String> metadata, InputStream payload)
+        throws IOException {
+      delegate.consume(firstLevelMetadata, payload);
+    }
+
+    @Override
+    public void discard() throws IOException {
+      delegate.discard();
+    }
+  }
+
   @Override
   public void close() {
     delegate.close();
@@ -15,6 +15,9 @@ enum BuckCacheRequestType {
   FETCH = 100,
   STORE = 101,
   MULTI_FETCH = 102,
+  // MULTI_CONTAINS uses the multiFetchRequest and multiFetchResponse fields.
+  // Results are CONTAINS, MISS, SKIPPED or ERROR and never carry a payload.
+  MULTI_CONTAINS = 103,
 }
 
 struct RuleKey {
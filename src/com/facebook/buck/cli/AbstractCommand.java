@@ -320,7 +320,8 @@ public abstract class AbstractCommand implements Command {
         resourcesConfig.getResourceAllocationFairness(),
         resourcesConfig.getManagedThreadCount(),
         resourcesConfig.getDefaultResourceAmounts(),
-        resourcesConfig.getMaximumResourceAmounts());
+        resourcesConfig.getMaximumResourceAmounts(),
+        resourcesConfig.getSystemMemoryReserveBytes());
   }
 
   @Override
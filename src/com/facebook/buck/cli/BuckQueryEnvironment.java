@@ -28,7 +28,6 @@ import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.model.BuildFileTree;
 import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.BuildTargetException;
-import com.facebook.buck.model.FilesystemBackedBuildFileTree;
 import com.facebook.buck.parser.ParserMessages;
 import com.facebook.buck.parser.PerBuildState;
 import com.facebook.buck.parser.exceptions.BuildFileParseException;
@@ -94,8 +93,10 @@ public class BuckQueryEnvironment implements QueryEnvironment {
 
   // Query execution is single threaded, however the buildTransitiveClosure implementation
   // traverses the graph in parallel.
-  private MutableDirectedGraph<TargetNode<?, ?>> graph = MutableDirectedGraph.createConcurrent();
   private Map<BuildTarget, TargetNode<?, ?>> targetsToNodes = new ConcurrentHashMap<>();
+  // The targets whose transitive closure has been loaded. Their dependents are looked up in the
+  // reverse dependency index of the parser, so no graph has to be built for each query.
+  private Set<BuildTarget> closedTargets = new HashSet<>();
 
   private BuckQueryEnvironment(
       Cell rootCell,
@@ -111,11 +112,7 @@ public class BuckQueryEnvironment implements QueryEnvironment {
             .getAllCells()
             .stream()
             .collect(
-                MoreCollectors.toImmutableMap(
-                    Function.identity(),
-                    cell ->
-                        new FilesystemBackedBuildFileTree(
-                            cell.getFilesystem(), cell.getBuildFileName())));
+                MoreCollectors.toImmutableMap(Function.identity(), parserState::getBuildFileTree));
     this.executor = executor;
     this.targetPatternEvaluator = targetPatternEvaluator;
     this.queryTargetEvaluator = new TargetEvaluator(targetPatternEvaluator, executor);
@@ -150,6 +147,14 @@ public class BuckQueryEnvironment implements QueryEnvironment {
   }
 
   public DirectedAcyclicGraph<TargetNode<?, ?>> getTargetGraph() {
+    MutableDirectedGraph<TargetNode<?, ?>> graph = new MutableDirectedGraph<>();
+    for (BuildTarget buildTarget : closedTargets) {
+      TargetNode<?, ?> node = Preconditions.checkNotNull(targetsToNodes.get(buildTarget));
+      graph.addNode(node);
+      for (BuildTarget dep : node.getParseDeps()) {
+        graph.addEdge(node, Preconditions.checkNotNull(targetsToNodes.get(dep)));
+      }
+    }
     return new DirectedAcyclicGraph<>(graph);
   }
 
@@ -242,7 +247,9 @@ public class BuckQueryEnvironment implements QueryEnvironment {
     ImmutableSet.Builder<QueryTarget> result = new ImmutableSet.Builder<>();
     for (QueryTarget target : targets) {
       TargetNode<?, ?> node = getNode(target);
-      result.addAll(getTargetsFromTargetNodes(graph.getOutgoingNodesFor(node)));
+      if (closedTargets.contains(node.getBuildTarget())) {
+        result.addAll(getTargetsFromBuildTargets(node.getParseDeps()));
+      }
     }
     return result.build();
   }
@@ -251,8 +258,22 @@ public class BuckQueryEnvironment implements QueryEnvironment {
   public Set<QueryTarget> getReverseDeps(Iterable<QueryTarget> targets) throws QueryException {
     Set<QueryTarget> result = new LinkedHashSet<>();
     for (QueryTarget target : targets) {
-      TargetNode<?, ?> node = getNode(target);
-      result.addAll(getTargetsFromTargetNodes(graph.getIncomingNodesFor(node)));
+      BuildTarget buildTarget = getNode(target).getBuildTarget();
+      // The index may still list dependents from nodes parsed before they were last changed, so
+      // only take the ones whose loaded node really depends on the target.
+      result.addAll(
+          getTargetsFromBuildTargets(
+              parserState
+                  .getCachedReverseDeps(buildTarget)
+                  .stream()
+                  .filter(
+                      dependent ->
+                          closedTargets.contains(dependent)
+                              && targetsToNodes
+                                  .get(dependent)
+                                  .getParseDeps()
+                                  .contains(buildTarget))
+                  .collect(MoreCollectors.toImmutableSet())));
     }
     return result;
   }
@@ -332,14 +353,14 @@ public class BuckQueryEnvironment implements QueryEnvironment {
                   "Node %s should have been discovered by `discoverNewTargetsConcurrently`.",
                   target);
 
-          // If a node has been added to the graph it means it and all of its children have been
-          // visited by an acyclic traversal and added to the graph. From this it follows that there
-          // are no outgoing edges from the graph (as it had been "fully" explored before) back out
-          // to the set of nodes we're currently exploring. Based on that:
+          // If a node has been closed it means it and all of its children have been visited by an
+          // acyclic traversal. From this it follows that there are no outgoing edges from the
+          // closed nodes (as they had been "fully" explored before) back out to the set of nodes
+          // we're currently exploring. Based on that:
           //  - we can't have a cycle involving the "old" nodes,
           //  - there are no new edges or nodes to be discovered by descending into the "old" nodes,
           // making this node safe to skip.
-          if (graph.getNodes().contains(node)) {
+          if (closedTargets.contains(target)) {
             return ImmutableSet.<BuildTarget>of().iterator();
           }
           return node.getParseDeps().iterator();
@@ -349,16 +370,8 @@ public class BuckQueryEnvironment implements QueryEnvironment {
         new AcyclicDepthFirstPostOrderTraversal<>(traversable);
     try {
       for (BuildTarget buildTarget : targetNodeTraversal.traverse(newBuildTargets)) {
-        TargetNode<?, ?> node =
-            Preconditions.checkNotNull(
-                targetsToNodes.get(buildTarget), "Couldn't find TargetNode for %s", buildTarget);
-        graph.addNode(node);
-        for (BuildTarget dep : node.getParseDeps()) {
-          graph.addEdge(
-              node,
-              Preconditions.checkNotNull(
-                  targetsToNodes.get(dep), "Couldn't find TargetNode for %s", dep));
-        }
+        // The traversal is post order, so the dependencies of a target are closed before it is.
+        closedTargets.add(buildTarget);
       }
     } catch (AcyclicDepthFirstPostOrderTraversal.CycleException e) {
       throw new QueryException(e, e.getMessage());
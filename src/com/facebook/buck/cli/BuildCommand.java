@@ -66,6 +66,7 @@ import com.facebook.buck.rules.ActionGraphAndResolver;
 import com.facebook.buck.rules.BuildEngine;
 import com.facebook.buck.rules.BuildEvent;
 import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.BuildRuleDurationHistory;
 import com.facebook.buck.rules.BuildRuleResolver;
 import com.facebook.buck.rules.CachingBuildEngine;
 import com.facebook.buck.rules.CachingBuildEngineBuckConfig;
@@ -697,14 +698,18 @@ public class BuildCommand extends AbstractCommand {
             params.getBuckConfig().getKeySeed(),
             params.getCell());
 
-    return new Pair<>(
+    BuildJobState jobState =
         DistBuildState.dump(
             cellIndexer,
             distributedBuildFileHashes,
             targetGraphCodec,
             targetGraphAndBuildTargets.getTargetGraph(),
-            buildTargets),
-        cellIndexer);
+            buildTargets);
+    DistBuildState.dumpBuildRuleDurations(
+        jobState,
+        actionGraphAndResolver.getActionGraph().getNodes(),
+        BuildRuleDurationHistory.load(params.getCell().getFilesystem()));
+    return new Pair<>(jobState, cellIndexer);
   }
 
   private int executeDistBuild(
@@ -1039,7 +1044,8 @@ public class BuildCommand extends AbstractCommand {
                 cachingBuildEngineBuckConfig.getBuildArtifactCacheSizeLimit(),
                 actionGraphAndResolver.getResolver(),
                 params.getBuildInfoStoreManager(),
-                cachingBuildEngineBuckConfig.getResourceAwareSchedulingInfo(),
+                cachingBuildEngineBuckConfig.getResourceAwareSchedulingInfo(
+                    params.getCell().getFilesystem()),
                 cachingBuildEngineBuckConfig.getConsoleLogBuildRuleFailuresInline(),
                 RuleKeyFactories.of(
                     rootCellBuckConfig.getKeySeed(),
@@ -1048,7 +1054,9 @@ public class BuildCommand extends AbstractCommand {
                     cachingBuildEngineBuckConfig.getBuildInputRuleKeyFileSizeLimit(),
                     ruleKeyCacheScope.getCache(),
                     ruleKeyLogger),
-                rootCellBuckConfig.getFileHashCacheMode());
+                rootCellBuckConfig.getFileHashCacheMode(),
+                cachingBuildEngineBuckConfig.getCriticalPathDurationEstimator(
+                    params.getCell().getFilesystem()));
         Build build =
             createBuild(
                 rootCellBuckConfig,
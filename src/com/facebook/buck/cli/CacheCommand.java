@@ -17,6 +17,7 @@
 package com.facebook.buck.cli;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactContainerFormat;
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.CacheResultType;
 import com.facebook.buck.event.ActionGraphEvent;
@@ -28,6 +29,7 @@ import com.facebook.buck.parser.ParseEvent;
 import com.facebook.buck.rules.BuildEvent;
 import com.facebook.buck.rules.BuildInfo;
 import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.util.MoreCollectors;
 import com.facebook.buck.util.concurrent.WeightedListeningExecutorService;
 import com.facebook.buck.util.zip.Unzip;
 import com.google.common.annotations.VisibleForTesting;
@@ -36,6 +38,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -191,6 +194,7 @@ public class CacheCommand extends AbstractCommand {
       case ERROR:
         return String.format("%s %s", typeString, cacheResult.getCacheError());
       case HIT:
+      case CONTAINS:
         return String.format("%s %s", typeString, cacheResult.getCacheSource());
       case SKIPPED:
       case MISS:
@@ -217,13 +221,17 @@ public class CacheCommand extends AbstractCommand {
       buckTarget = success.metadata().get().get(BuildInfo.MetadataKey.TARGET);
     }
     ImmutableList<Path> paths;
-    try {
+    try (InputStream payload = Files.newInputStream(artifact)) {
+      Files.createDirectories(tmpDir);
       paths =
-          Unzip.extractZipFile(
-              projectFilesystemFactory,
-              artifact.toAbsolutePath(),
-              tmpDir,
-              Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
+          ArtifactContainerFormat.fromMetadata(metadata)
+              .extract(
+                  payload,
+                  projectFilesystemFactory.createProjectFilesystem(tmpDir),
+                  Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES)
+              .stream()
+              .map(path -> tmpDir.resolve(path).toAbsolutePath())
+              .collect(MoreCollectors.toImmutableList());
     } catch (IOException e) {
       resultString.append(String.format("%s %s !(Unable to extract) %s\n", ruleKey, buckTarget, e));
       return false;
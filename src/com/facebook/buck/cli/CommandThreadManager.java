@@ -21,6 +21,7 @@ import com.facebook.buck.util.concurrent.ConcurrencyLimit;
 import com.facebook.buck.util.concurrent.ListeningMultiSemaphore;
 import com.facebook.buck.util.concurrent.MostExecutors;
 import com.facebook.buck.util.concurrent.ResourceAmounts;
+import com.facebook.buck.util.concurrent.SystemMemoryHeadroom;
 import com.facebook.buck.util.concurrent.WeightedListeningExecutorService;
 import com.google.common.base.Joiner;
 import com.google.common.util.concurrent.ListeningExecutorService;
@@ -103,8 +104,7 @@ public class CommandThreadManager implements AutoCloseable {
       TimeUnit shutdownTimeoutUnit) {
     this(
         name,
-        new ListeningMultiSemaphore(
-            concurrencyLimit.maximumAmounts, concurrencyLimit.resourceAllocationFairness),
+        createSemaphore(concurrencyLimit),
         concurrencyLimit.defaultAmounts,
         concurrencyLimit.managedThreadCount,
         shutdownTimeout,
@@ -115,6 +115,17 @@ public class CommandThreadManager implements AutoCloseable {
     this(name, concurrencyLimit, DEFAULT_SHUTDOWN_TIMEOUT, DEFAULT_SHUTDOWN_TIMEOUT_UNIT);
   }
 
+  private static ListeningMultiSemaphore createSemaphore(ConcurrencyLimit concurrencyLimit) {
+    if (!concurrencyLimit.systemMemoryReserveBytes.isPresent()) {
+      return new ListeningMultiSemaphore(
+          concurrencyLimit.maximumAmounts, concurrencyLimit.resourceAllocationFairness);
+    }
+    return new ListeningMultiSemaphore(
+        concurrencyLimit.maximumAmounts,
+        concurrencyLimit.resourceAllocationFairness,
+        SystemMemoryHeadroom.withReserve(concurrencyLimit.systemMemoryReserveBytes.getAsLong()));
+  }
+
   public ExecutorService getExecutorService() {
     return executorService;
   }
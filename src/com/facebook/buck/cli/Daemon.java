@@ -267,11 +267,15 @@ final class Daemon implements Closeable {
   /** @return true if the web server was started successfully. */
   private boolean initWebServer() {
     if (webServer.isPresent()) {
+      ArtifactCacheBuckConfig cacheBuckConfig =
+          new ArtifactCacheBuckConfig(rootCell.getBuckConfig());
       Optional<ArtifactCache> servedCache =
-          ArtifactCaches.newServedCache(
-              new ArtifactCacheBuckConfig(rootCell.getBuckConfig()), rootCell.getFilesystem());
+          ArtifactCaches.newServedCache(cacheBuckConfig, rootCell.getFilesystem());
       try {
-        webServer.get().updateAndStartIfNeeded(servedCache);
+        webServer
+            .get()
+            .updateAndStartIfNeeded(
+                servedCache, cacheBuckConfig.getServedLocalCacheMaxConcurrentRequests());
         return true;
       } catch (WebServer.WebServerException e) {
         LOG.error(e);
@@ -290,10 +294,27 @@ final class Daemon implements Closeable {
 
   @Override
   public void close() throws IOException {
+    persistFileHashCaches();
     shutdownPersistentWorkerPools();
     shutdownWebServer();
   }
 
+  /**
+   * Saves the file hashes computed by this daemon so that its successor can reuse them. Called
+   * after every command, as a daemon which is killed never gets closed.
+   */
+  void persistFileHashCaches() {
+    for (ProjectFileHashCache hashCache : hashCaches) {
+      if (hashCache instanceof WatchedFileHashCache) {
+        try {
+          ((WatchedFileHashCache) hashCache).persist();
+        } catch (IOException e) {
+          LOG.warn(e, "Failed to persist file hashes for %s.", hashCache.getFilesystem());
+        }
+      }
+    }
+  }
+
   private void shutdownPersistentWorkerPools() {
     for (WorkerProcessPool pool : persistentWorkerPools.values()) {
       try {
@@ -43,6 +43,7 @@ import com.facebook.buck.versions.VersionException;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
+import java.util.Optional;
 
 public class FetchCommand extends BuildCommand {
 
@@ -131,7 +132,8 @@ public class FetchCommand extends BuildCommand {
                       actionGraphAndResolver.getResolver(),
                       cachingBuildEngineBuckConfig.getBuildInputRuleKeyFileSizeLimit(),
                       ruleKeyCacheScope.getCache()),
-                  params.getBuckConfig().getFileHashCacheMode());
+                  params.getBuckConfig().getFileHashCacheMode(),
+                  Optional.empty());
           Build build =
               createBuild(
                   params.getBuckConfig(),
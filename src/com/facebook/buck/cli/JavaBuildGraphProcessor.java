@@ -49,6 +49,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.Optional;
 
 /**
  * Utility that aids in creating the objects necessary to traverse the target graph with special
@@ -142,7 +143,8 @@ final class JavaBuildGraphProcessor {
                   buildRuleResolver,
                   cachingBuildEngineBuckConfig.getBuildInputRuleKeyFileSizeLimit(),
                   new DefaultRuleKeyCache<>()),
-              params.getBuckConfig().getFileHashCacheMode()); ) {
+              params.getBuckConfig().getFileHashCacheMode(),
+              Optional.empty()); ) {
         // Create a BuildEngine because we store symbol information as build artifacts.
         BuckEventBus eventBus = params.getBuckEventBus();
         ExecutionContext executionContext =
@@ -29,6 +29,7 @@ import com.facebook.buck.artifact_cache.ArtifactCacheBuckConfig;
 import com.facebook.buck.artifact_cache.ArtifactCaches;
 import com.facebook.buck.artifact_cache.HttpArtifactCacheEvent;
 import com.facebook.buck.config.BuckConfig;
+import com.facebook.buck.config.resources.ResourcesConfig;
 import com.facebook.buck.counters.CounterRegistry;
 import com.facebook.buck.counters.CounterRegistryImpl;
 import com.facebook.buck.event.BuckEventBus;
@@ -38,8 +39,11 @@ import com.facebook.buck.event.CommandEvent;
 import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.event.DaemonEvent;
 import com.facebook.buck.event.DefaultBuckEventBus;
+import com.facebook.buck.event.PerListenerQueueBuckEventBus;
 import com.facebook.buck.event.listener.AbstractConsoleEventBusListener;
 import com.facebook.buck.event.listener.BroadcastEventListener;
+import com.facebook.buck.event.listener.BuildRuleDurationHistoryListener;
+import com.facebook.buck.event.listener.BuildRuleResourceHistoryListener;
 import com.facebook.buck.event.listener.CacheRateStatsListener;
 import com.facebook.buck.event.listener.ChromeTraceBuckConfig;
 import com.facebook.buck.event.listener.ChromeTraceBuildListener;
@@ -827,7 +831,7 @@ public final class Main {
                         ? Optional.of(buildId)
                         : Optional.empty());
             AsyncCloseable asyncCloseable = new AsyncCloseable(diskIoExecutorService);
-            DefaultBuckEventBus buildEventBus = new DefaultBuckEventBus(clock, buildId);
+            BuckEventBus buildEventBus = createBuckEventBus(buckConfig, clock, buildId);
             BroadcastEventListener.BroadcastEventBusClosable broadcastEventBusClosable =
                 broadcastEventListener.addEventBus(buildEventBus);
 
@@ -901,7 +905,8 @@ public final class Main {
                   clock,
                   consoleListener,
                   counterRegistry,
-                  commandEventListeners
+                  commandEventListeners,
+                  command.subcommand instanceof BuildCommand
                   );
 
           if (buckConfig.isBuckConfigLocalWarningEnabled() && !console.getVerbosity().isSilent()) {
@@ -1168,6 +1173,12 @@ public final class Main {
           context.get().exit(exitCode); // Allow nailgun client to exit while outputting traces.
         }
 
+        // The daemon may be killed or lose its client without ever being closed, so save the file
+        // hashes computed by every command rather than only when the daemon shuts down.
+        if (daemon.isPresent()) {
+          daemon.get().persistFileHashCaches();
+        }
+
         closeDiskIoExecutorService(diskIoExecutorService);
         flushAndCloseEventListeners(console, buildId, eventListeners);
         return exitCode;
@@ -1456,7 +1467,8 @@ public final class Main {
       Clock clock,
       AbstractConsoleEventBusListener consoleEventBusListener,
       CounterRegistry counterRegistry,
-      Iterable<BuckEventListener> commandSpecificEventListeners
+      Iterable<BuckEventListener> commandSpecificEventListeners,
+      boolean isBuildCommand
       ) {
     ImmutableList.Builder<BuckEventListener> eventListenersBuilder =
         ImmutableList.<BuckEventListener>builder()
@@ -1497,6 +1509,14 @@ public final class Main {
                   new CommandThreadFactory(getClass().getName()))));
     }
 
+    // Only builds measure rules, and recording the history rewrites it.
+    if (isBuildCommand) {
+      eventListenersBuilder.add(new BuildRuleDurationHistoryListener(projectFilesystem));
+      if (buckConfig.getView(ResourcesConfig.class).isAdaptiveResourceAmountsEnabled()) {
+        eventListenersBuilder.add(new BuildRuleResourceHistoryListener(projectFilesystem));
+      }
+    }
+
     eventListenersBuilder.add(
         new RuleKeyDiagnosticsListener(
             projectFilesystem,
@@ -1545,6 +1565,15 @@ public final class Main {
         environmentExtraData.build());
   }
 
+  private static BuckEventBus createBuckEventBus(
+      BuckConfig buckConfig, Clock clock, BuildId buildId) {
+    OptionalInt queueCapacity = buckConfig.getPerListenerEventQueueCapacity();
+    if (queueCapacity.isPresent()) {
+      return new PerListenerQueueBuckEventBus(clock, buildId, queueCapacity.getAsInt());
+    }
+    return new DefaultBuckEventBus(clock, buildId);
+  }
+
   private AbstractConsoleEventBusListener createConsoleEventListener(
       Clock clock,
       SuperConsoleConfig config,
@@ -18,6 +18,7 @@ package com.facebook.buck.cli;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.model.BuildFileTree;
+import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.parser.Parser;
 import com.facebook.buck.parser.exceptions.BuildFileParseException;
 import com.facebook.buck.rules.Cell;
@@ -156,8 +157,11 @@ final class OwnersReport {
                   throw new HumanReadableException(e);
                 }
               });
+      // The parser indexes the inputs of the nodes it parsed, so only the owners need checking.
+      ImmutableSet<BuildTarget> owners = parser.getCachedInputOwners(cell, cellRelativePath);
       return targetNodes
           .stream()
+          .filter(targetNode -> owners.contains(targetNode.getBuildTarget()))
           .map(targetNode -> generateOwnersReport(cell, targetNode, cellRelativePath.toString()))
           .reduce(OwnersReport.emptyReport(), OwnersReport::updatedWith);
     }
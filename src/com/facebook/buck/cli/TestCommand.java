@@ -17,6 +17,8 @@
 package com.facebook.buck.cli;
 
 import com.facebook.buck.android.exopackage.AndroidDevicesHelperFactory;
+import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactCacheBuckConfig;
 import com.facebook.buck.command.Build;
 import com.facebook.buck.config.BuckConfig;
 import com.facebook.buck.config.resources.ResourcesConfig;
@@ -131,6 +133,14 @@ public class TestCommand extends BuildCommand {
   )
   private boolean isDebugEnabled = false;
 
+  @Option(
+    name = "--no-results-cache",
+    usage =
+        "Run tests even if their results are cached. The results of passing tests are still "
+            + "stored when test.cache_results is enabled."
+  )
+  private boolean isResultsCacheDisabled = false;
+
   @Option(name = "--xml", usage = "Where to write test output as XML.")
   @Nullable
   private String pathToXmlTestOutput = null;
@@ -246,6 +256,10 @@ public class TestCommand extends BuildCommand {
         : buckConfig.getBooleanValue("test", "build_filtered_tests", false);
   }
 
+  public boolean isCachingTestResults(BuckConfig buckConfig) {
+    return buckConfig.getBooleanValue("test", "cache_results", false);
+  }
+
   public int getNumTestThreads(BuckConfig buckConfig) {
     if (isDebugEnabled()) {
       return 1;
@@ -297,6 +311,7 @@ public class TestCommand extends BuildCommand {
       BuildEngine buildEngine,
       Build build,
       BuildContext buildContext,
+      ArtifactCache artifactCache,
       Iterable<TestRule> testRules)
       throws InterruptedException, IOException {
 
@@ -315,7 +330,23 @@ public class TestCommand extends BuildCommand {
             resourcesConfig.getResourceAllocationFairness(),
             getNumTestManagedThreads(resourcesConfig),
             resourcesConfig.getDefaultResourceAmounts(),
-            resourcesConfig.getMaximumResourceAmounts());
+            resourcesConfig.getMaximumResourceAmounts(),
+            resourcesConfig.getSystemMemoryReserveBytes());
+    Optional<TestResultsCache> testResultsCache = Optional.empty();
+    if (isCachingTestResults(params.getBuckConfig())) {
+      // A debugged test waits for a debugger to attach, so it is never replayed.
+      testResultsCache =
+          Optional.of(
+              new TestResultsCache(
+                  artifactCache,
+                  build.getRuleResolver(),
+                  params
+                      .getBuckConfig()
+                      .getView(ArtifactCacheBuckConfig.class)
+                      .getArtifactContainerFormat(),
+                  params.getBuckEventBus(),
+                  !isResultsCacheDisabled && !isDebugEnabled()));
+    }
     try (CommandThreadManager testPool = new CommandThreadManager("Test-Run", concurrencyLimit)) {
       SourcePathRuleFinder ruleFinder = new SourcePathRuleFinder(build.getRuleResolver());
       return TestRunning.runTests(
@@ -327,7 +358,8 @@ public class TestCommand extends BuildCommand {
           buildEngine,
           new DefaultStepRunner(),
           buildContext,
-          ruleFinder);
+          ruleFinder,
+          testResultsCache);
     }
   }
 
@@ -566,6 +598,7 @@ public class TestCommand extends BuildCommand {
               params,
               new RuleKeyCacheRecycler.SettingsAffectingCache(
                   params.getBuckConfig().getKeySeed(), actionGraphAndResolver.getActionGraph()))) {
+        ArtifactCache artifactCache = params.getArtifactCacheFactory().newInstance();
         LocalCachingBuildEngineDelegate localCachingBuildEngineDelegate =
             new LocalCachingBuildEngineDelegate(params.getFileHashCache());
         try (CachingBuildEngine cachingBuildEngine =
@@ -580,7 +613,8 @@ public class TestCommand extends BuildCommand {
                     cachingBuildEngineBuckConfig.getBuildArtifactCacheSizeLimit(),
                     actionGraphAndResolver.getResolver(),
                     params.getBuildInfoStoreManager(),
-                    cachingBuildEngineBuckConfig.getResourceAwareSchedulingInfo(),
+                    cachingBuildEngineBuckConfig.getResourceAwareSchedulingInfo(
+                        params.getCell().getFilesystem()),
                     cachingBuildEngineBuckConfig.getConsoleLogBuildRuleFailuresInline(),
                     RuleKeyFactories.of(
                         params.getBuckConfig().getKeySeed(),
@@ -588,14 +622,16 @@ public class TestCommand extends BuildCommand {
                         actionGraphAndResolver.getResolver(),
                         cachingBuildEngineBuckConfig.getBuildInputRuleKeyFileSizeLimit(),
                         ruleKeyCacheScope.getCache()),
-                    params.getBuckConfig().getFileHashCacheMode());
+                    params.getBuckConfig().getFileHashCacheMode(),
+                    cachingBuildEngineBuckConfig.getCriticalPathDurationEstimator(
+                        params.getCell().getFilesystem()));
             Build build =
                 createBuild(
                     params.getBuckConfig(),
                     actionGraphAndResolver.getResolver(),
                     params.getCell(),
                     cachingBuildEngine,
-                    params.getArtifactCacheFactory().newInstance(),
+                    artifactCache,
                     params.getConsole(),
                     params.getClock(),
                     getExecutionContext(),
@@ -643,7 +679,8 @@ public class TestCommand extends BuildCommand {
             return runTestsExternal(
                 params, build, externalTestRunner.get(), testRules, buildContext);
           }
-          return runTestsInternal(params, cachingBuildEngine, build, buildContext, testRules);
+          return runTestsInternal(
+              params, cachingBuildEngine, build, buildContext, artifactCache, testRules);
         }
       }
     }
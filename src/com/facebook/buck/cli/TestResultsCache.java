@@ -0,0 +1,248 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.cli;
+
+import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactContainerFormat;
+import com.facebook.buck.artifact_cache.ArtifactPayloadConsumer;
+import com.facebook.buck.artifact_cache.ArtifactUploader;
+import com.facebook.buck.artifact_cache.CacheResult;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.io.file.LazyPath;
+import com.facebook.buck.io.file.MoreFiles;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.BuildEngine;
+import com.facebook.buck.rules.BuildRuleResolver;
+import com.facebook.buck.rules.BuildRules;
+import com.facebook.buck.rules.HasRuntimeDeps;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.rules.TestRule;
+import com.facebook.buck.test.TestResults;
+import com.facebook.buck.test.TestRunningOptions;
+import com.facebook.buck.util.exceptions.BuckUncheckedExecutionException;
+import com.facebook.buck.util.zip.Unzip;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Stores the output directories of passing tests in the {@link ArtifactCache}, so that their
+ * results can be replayed instead of running the tests again while neither the tests nor the
+ * options they are run with change.
+ */
+public class TestResultsCache {
+
+  private static final Logger LOG = Logger.get(TestResultsCache.class);
+
+  // Bump this when the layout of the cached output directories changes.
+  private static final String KEY_VERSION = "test-results-v2";
+
+  private final ArtifactCache artifactCache;
+  private final BuildRuleResolver ruleResolver;
+  private final ArtifactContainerFormat containerFormat;
+  private final BuckEventBus eventBus;
+  private final boolean replayEnabled;
+
+  /**
+   * @param replayEnabled whether cached results are replayed. If not, tests are always run, but
+   *     the results of passing runs are still stored.
+   */
+  public TestResultsCache(
+      ArtifactCache artifactCache,
+      BuildRuleResolver ruleResolver,
+      ArtifactContainerFormat containerFormat,
+      BuckEventBus eventBus,
+      boolean replayEnabled) {
+    this.artifactCache = artifactCache;
+    this.ruleResolver = ruleResolver;
+    this.containerFormat = containerFormat;
+    this.eventBus = eventBus;
+    this.replayEnabled = replayEnabled;
+  }
+
+  public boolean isReplayEnabled() {
+    return replayEnabled;
+  }
+
+  /**
+   * @return the key the results of the given test are cached under. It combines the rule keys of
+   *     the test and of its transitive runtime deps with the options which change what the test
+   *     does when it is run.
+   */
+  public RuleKey getKey(TestRule test, BuildEngine buildEngine, TestRunningOptions options) {
+    Hasher hasher = Hashing.sha1().newHasher();
+    hasher.putString(KEY_VERSION, Charsets.UTF_8).putByte((byte) 0);
+    hasher.putString(buildEngine.getRuleKey(test.getBuildTarget()).toString(), Charsets.UTF_8);
+    hasher.putByte((byte) 0);
+    hasher.putString(test.getBuildTarget().getFullyQualifiedName(), Charsets.UTF_8);
+    hasher.putByte((byte) 0);
+    // Runtime deps, such as the additional deps of a cxx_test, are not part of the rule key of the
+    // test, but they are used while it runs.
+    if (test instanceof HasRuntimeDeps) {
+      for (BuildTarget runtimeDep :
+          ImmutableSortedSet.copyOf(
+              BuildRules.getTransitiveRuntimeDeps((HasRuntimeDeps) test, ruleResolver))) {
+        hasher.putString(runtimeDep.getFullyQualifiedName(), Charsets.UTF_8).putByte((byte) 0);
+        hasher.putString(buildEngine.getRuleKey(runtimeDep).toString(), Charsets.UTF_8);
+        hasher.putByte((byte) 0);
+      }
+    }
+    hasher.putByte((byte) 0);
+    hasher.putBoolean(!options.getTestSelectorList().isEmpty());
+    for (String selector : options.getTestSelectorList().getRawSelectors()) {
+      hasher.putString(selector, Charsets.UTF_8).putByte((byte) 0);
+    }
+    hasher.putString(options.getPathToJavaAgent().orElse(""), Charsets.UTF_8).putByte((byte) 0);
+    for (Map.Entry<String, String> entry :
+        ImmutableSortedMap.copyOf(options.getEnvironmentOverrides()).entrySet()) {
+      hasher.putString(entry.getKey(), Charsets.UTF_8).putByte((byte) 0);
+      hasher.putString(entry.getValue(), Charsets.UTF_8).putByte((byte) 0);
+    }
+    hasher.putBoolean(options.isShufflingTests());
+    return new RuleKey(hasher.hash());
+  }
+
+  /**
+   * Fetches the cached output directory of the given test and unpacks it in place of the current
+   * one. The directory is only replaced if the result is a hit.
+   */
+  public ListenableFuture<CacheResult> fetch(TestRule test, RuleKey key) {
+    // Caches which can't hand the artifact over while it is being fetched download it here first.
+    LazyPath tempFile =
+        new LazyPath() {
+          @Override
+          protected Path create() throws IOException {
+            return Files.createTempFile(
+                "buck_test_results_" + MoreFiles.sanitize(test.getBuildTarget().getShortName()),
+                containerFormat.getFileExtension());
+          }
+        };
+    return artifactCache.fetchStreamingAsync(
+        key, tempFile, new OutputDirectoryExtractor(test.getProjectFilesystem()));
+  }
+
+  /**
+   * Stores the output directory of the given test under the given key. The store is asynchronous,
+   * failures are logged and otherwise ignored.
+   */
+  public void store(TestRule test, RuleKey key) {
+    if (!artifactCache.getCacheReadMode().isWritable()) {
+      return;
+    }
+    ProjectFilesystem filesystem = test.getProjectFilesystem();
+    try {
+      ImmutableSortedSet<Path> paths = getDirsAndFiles(filesystem, test);
+      if (paths.isEmpty()) {
+        return;
+      }
+      ArtifactUploader.performUploadToArtifactCache(
+          ImmutableSet.of(key),
+          artifactCache,
+          eventBus,
+          ImmutableMap.of(),
+          paths,
+          test.getBuildTarget(),
+          filesystem,
+          containerFormat);
+    } catch (IOException | BuckUncheckedExecutionException e) {
+      LOG.warn(e, "Failed storing the results of %s.", test.getBuildTarget());
+    }
+  }
+
+  /**
+   * @return a callable which stores the output directory of the given test once the given one
+   *     returns passing results.
+   */
+  public Callable<TestResults> storingPassingResults(
+      TestRule test, RuleKey key, Callable<TestResults> interpreter) {
+    return () -> {
+      TestResults results = interpreter.call();
+      // Failures are never replayed, so that flaky tests get another chance.
+      if (results.isSuccess()) {
+        store(test, key);
+      }
+      return results;
+    };
+  }
+
+  private static ImmutableSortedSet<Path> getDirsAndFiles(
+      ProjectFilesystem filesystem, TestRule test) throws IOException {
+    Path outputDirectory = test.getPathToTestOutputDirectory();
+    ImmutableSortedSet.Builder<Path> paths = ImmutableSortedSet.naturalOrder();
+    if (!filesystem.isDirectory(outputDirectory)) {
+      return paths.build();
+    }
+    filesystem.walkRelativeFileTree(
+        outputDirectory,
+        new SimpleFileVisitor<Path>() {
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            paths.add(file);
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+            paths.add(dir);
+            return FileVisitResult.CONTINUE;
+          }
+        });
+    return paths.build();
+  }
+
+  private static class OutputDirectoryExtractor implements ArtifactPayloadConsumer {
+    private final ProjectFilesystem filesystem;
+    private ImmutableList<Path> extractedFiles = ImmutableList.of();
+
+    private OutputDirectoryExtractor(ProjectFilesystem filesystem) {
+      this.filesystem = filesystem;
+    }
+
+    @Override
+    public void consume(ImmutableMap<String, String> metadata, InputStream payload)
+        throws IOException {
+      extractedFiles =
+          ArtifactContainerFormat.fromMetadata(metadata)
+              .extract(payload, filesystem, Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
+    }
+
+    @Override
+    public void discard() throws IOException {
+      for (Path path : extractedFiles) {
+        filesystem.deleteFileAtPathIfExists(path);
+      }
+      extractedFiles = ImmutableList.of();
+    }
+  }
+}
@@ -16,6 +16,7 @@
 
 package com.facebook.buck.cli;
 
+import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.io.BuildCellRelativePath;
@@ -36,6 +37,7 @@ import com.facebook.buck.rules.BuildContext;
 import com.facebook.buck.rules.BuildEngine;
 import com.facebook.buck.rules.BuildRule;
 import com.facebook.buck.rules.IndividualTestEvent;
+import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.rules.SourcePath;
 import com.facebook.buck.rules.SourcePathResolver;
 import com.facebook.buck.rules.SourcePathRuleFinder;
@@ -117,7 +119,6 @@ public class TestRunning {
   // Utility class; do not instantiate.
   private TestRunning() {}
 
-  @SuppressWarnings("PMD.EmptyCatchBlock")
   public static int runTests(
       final CommandRunnerParams params,
       Iterable<TestRule> tests,
@@ -129,6 +130,36 @@ public class TestRunning {
       BuildContext buildContext,
       SourcePathRuleFinder ruleFinder)
       throws IOException, InterruptedException {
+    return runTests(
+        params,
+        tests,
+        executionContext,
+        options,
+        service,
+        buildEngine,
+        stepRunner,
+        buildContext,
+        ruleFinder,
+        Optional.empty());
+  }
+
+  /**
+   * Runs the given tests. The results of tests which support it are looked up in, and the results
+   * of the ones which pass are stored in, the given cache, unless code coverage is enabled.
+   */
+  @SuppressWarnings("PMD.EmptyCatchBlock")
+  public static int runTests(
+      final CommandRunnerParams params,
+      Iterable<TestRule> tests,
+      ExecutionContext executionContext,
+      final TestRunningOptions options,
+      ListeningExecutorService service,
+      BuildEngine buildEngine,
+      final StepRunner stepRunner,
+      BuildContext buildContext,
+      SourcePathRuleFinder ruleFinder,
+      Optional<TestResultsCache> testResultsCache)
+      throws IOException, InterruptedException {
 
     ImmutableSet<JavaLibrary> rulesUnderTestForCoverage;
     // If needed, we first run instrumentation on the class files.
@@ -181,17 +212,43 @@ public class TestRunning {
     // ListenableFuture.
     List<ListenableFuture<TestResults>> results = new ArrayList<>();
 
+    // Coverage data of all tests is collected into shared files, so it can't be cached per test.
+    Map<TestRule, RuleKey> testResultsKeys = new HashMap<>();
+    Map<TestRule, ListenableFuture<CacheResult>> cachedTestResults = new HashMap<>();
+    if (testResultsCache.isPresent() && !options.isCodeCoverageEnabled()) {
+      for (TestRule test : tests) {
+        if (!test.supportsCachingTestResults()) {
+          continue;
+        }
+        RuleKey key = testResultsCache.get().getKey(test, buildEngine, options);
+        testResultsKeys.put(test, key);
+        // Start all of the fetches up front, so that they overlap with each other.
+        if (testResultsCache.get().isReplayEnabled()) {
+          cachedTestResults.put(test, testResultsCache.get().fetch(test, key));
+        }
+      }
+    }
+
     final AtomicInteger lastReportedTestSequenceNumber = new AtomicInteger();
     final List<TestRun> separateTestRuns = new ArrayList<>();
     List<TestRun> parallelTestRuns = new ArrayList<>();
     for (final TestRule test : tests) {
       // Determine whether the test needs to be executed.
-      final Callable<TestResults> resultsInterpreter =
-          getCachingCallable(
-              test.interpretTestResults(
-                  executionContext,
-                  buildContext.getSourcePathResolver(),
-                  /*isUsingTestSelectors*/ !options.getTestSelectorList().isEmpty()));
+      boolean isReplayingCachedResults =
+          cachedTestResults.containsKey(test)
+              && isCacheHit(test, cachedTestResults.get(test), params.getBuckEventBus());
+      Callable<TestResults> interpreter =
+          test.interpretTestResults(
+              executionContext,
+              buildContext.getSourcePathResolver(),
+              /*isUsingTestSelectors*/ !options.getTestSelectorList().isEmpty());
+      if (testResultsKeys.containsKey(test) && !isReplayingCachedResults) {
+        interpreter =
+            testResultsCache
+                .get()
+                .storingPassingResults(test, testResultsKeys.get(test), interpreter);
+      }
+      final Callable<TestResults> resultsInterpreter = getCachingCallable(interpreter);
 
       final Map<String, UUID> testUUIDMap = new HashMap<>();
       final AtomicReference<TestStatusMessageEvent.Started> currentTestStatusMessageEvent =
@@ -274,8 +331,13 @@ public class TestRunning {
       params.getBuckEventBus().post(IndividualTestEvent.started(testTargets));
       ImmutableList.Builder<Step> stepsBuilder = ImmutableList.builder();
       Preconditions.checkState(buildEngine.isRuleBuilt(test.getBuildTarget()));
-      List<Step> testSteps =
-          test.runTests(executionContext, options, buildContext, testReportingCallback);
+      List<Step> testSteps;
+      if (isReplayingCachedResults) {
+        LOG.info("Replaying the cached results of %s.", test.getBuildTarget());
+        testSteps = ImmutableList.of();
+      } else {
+        testSteps = test.runTests(executionContext, options, buildContext, testReportingCallback);
+      }
       if (!testSteps.isEmpty()) {
         stepsBuilder.addAll(testSteps);
       }
@@ -526,6 +588,20 @@ public class TestRunning {
     return transformedTestResults;
   }
 
+  private static boolean isCacheHit(
+      TestRule test, ListenableFuture<CacheResult> cacheResult, BuckEventBus eventBus)
+      throws InterruptedException {
+    try {
+      return cacheResult.get().getType().isSuccess();
+    } catch (ExecutionException e) {
+      LOG.warn(e, "Failed fetching the cached results of %s.", test.getBuildTarget());
+      eventBus.post(
+          ConsoleEvent.warning(
+              "Failed fetching the cached results of %s, running it.", test.getBuildTarget()));
+      return false;
+    }
+  }
+
   private static Callable<TestResults> getCachingCallable(final Callable<TestResults> callable) {
     return new Callable<TestResults>() {
       @Nullable private Either<TestResults, Exception> result = null;
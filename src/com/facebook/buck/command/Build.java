@@ -17,6 +17,7 @@
 package com.facebook.buck.command;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactCacheBuckConfig;
 import com.facebook.buck.config.BuckConfig;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.ConsoleEvent;
@@ -126,6 +127,11 @@ public class Build implements Closeable {
         .setBuildId(buildId)
         .putAllEnvironment(executionContext.getEnvironment())
         .setKeepGoing(isKeepGoing)
+        .setArtifactContainerFormat(
+            rootCell
+                .getBuckConfig()
+                .getView(ArtifactCacheBuckConfig.class)
+                .getArtifactContainerFormat())
         .build();
   }
 
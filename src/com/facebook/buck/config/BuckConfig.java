@@ -61,6 +61,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -431,6 +432,7 @@ public class BuckConfig implements ConfigPathGetter {
   }
 
   private static final String LOG_SECTION = "log";
+  private static final int DEFAULT_LISTENER_EVENT_QUEUE_CAPACITY = 1 << 16;
 
   public boolean isPublicAnnouncementsEnabled() {
     return getBooleanValue(LOG_SECTION, "public_announcements", true);
@@ -453,6 +455,25 @@ public class BuckConfig implements ConfigPathGetter {
         .orElse(RuleKeyDiagnosticsMode.NEVER);
   }
 
+  /**
+   * @return the capacity of the event queue of each listener if events should be delivered to
+   *     listeners through separate queues, so that slow listeners don't hold up the others.
+   */
+  public OptionalInt getPerListenerEventQueueCapacity() {
+    if (!getBooleanValue(LOG_SECTION, "per_listener_event_queues", false)) {
+      return OptionalInt.empty();
+    }
+    long capacity =
+        getLong(LOG_SECTION, "listener_event_queue_capacity")
+            .orElse((long) DEFAULT_LISTENER_EVENT_QUEUE_CAPACITY);
+    if (capacity <= 0 || capacity > (1 << 30) || Long.bitCount(capacity) != 1) {
+      throw new HumanReadableException(
+          "%s.listener_event_queue_capacity must be a power of two, got %d",
+          LOG_SECTION, capacity);
+    }
+    return OptionalInt.of((int) capacity);
+  }
+
   public boolean isMachineReadableLoggerEnabled() {
     return getBooleanValue(LOG_SECTION, "machine_readable_logger_enabled", true);
   }
@@ -22,9 +22,11 @@ import com.facebook.buck.util.concurrent.ResourceAllocationFairness;
 import com.facebook.buck.util.concurrent.ResourceAmounts;
 import com.facebook.buck.util.concurrent.ResourceAmountsEstimator;
 import com.facebook.buck.util.immutables.BuckStyleImmutable;
+import com.facebook.buck.util.unit.SizeUnit;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.OptionalLong;
 import org.immutables.value.Value;
 
 @Value.Immutable(builder = false, copy = false)
@@ -47,6 +49,45 @@ abstract class AbstractResourcesConfig implements ConfigView<BuckConfig> {
         .getBooleanValue(RESOURCES_SECTION_HEADER, "resource_aware_scheduling_enabled", false);
   }
 
+  /**
+   * @return whether rules should be scheduled with the resource amounts they were measured to use
+   *     in earlier builds.
+   */
+  public boolean isAdaptiveResourceAmountsEnabled() {
+    return isResourceAwareSchedulingEnabled()
+        && getDelegate()
+            .getBooleanValue(RESOURCES_SECTION_HEADER, "adaptive_resource_amounts_enabled", false);
+  }
+
+  /**
+   * @return by how many percent the memory and disk IO amounts measured for rules are raised, to
+   *     leave room for rules using more than they did before.
+   */
+  public int getAdaptiveResourceAmountsSafetyMarginPercent() {
+    int margin =
+        getDelegate()
+            .getInteger(RESOURCES_SECTION_HEADER, "adaptive_resource_amounts_safety_margin")
+            .orElse(25);
+    Preconditions.checkArgument(
+        margin >= 0,
+        "Buck config entry [%s].adaptive_resource_amounts_safety_margin must not be negative.",
+        RESOURCES_SECTION_HEADER);
+    return margin;
+  }
+
+  /**
+   * @return the memory of the host jobs should leave available, if jobs should be held back when
+   *     the host runs low on memory.
+   */
+  public OptionalLong getSystemMemoryReserveBytes() {
+    if (!isResourceAwareSchedulingEnabled()) {
+      return OptionalLong.empty();
+    }
+    long reserveMegabytes =
+        getDelegate().getLong(RESOURCES_SECTION_HEADER, "system_memory_reserve_mb").orElse(1024L);
+    return OptionalLong.of(SizeUnit.MEGABYTES.toBytes(reserveMegabytes));
+  }
+
   public ImmutableMap<String, ResourceAmounts> getResourceAmountsPerRuleType() {
     ImmutableMap.Builder<String, ResourceAmounts> result = ImmutableMap.builder();
     ImmutableMap<String, String> entries =
@@ -103,13 +144,22 @@ abstract class AbstractResourcesConfig implements ConfigView<BuckConfig> {
             .orElse(ResourceAmountsEstimator.DEFAULT_NETWORK_IO_AMOUNT));
   }
 
+  /**
+   * @return the resource amounts all running jobs may use together. Unless configured, the memory
+   *     cap is the Java heap of Buck, or the physical memory of the host if amounts are measured
+   *     from the processes rules launch, as those don't live in the heap.
+   */
   public ResourceAmounts getMaximumResourceAmounts() {
     ResourceAmounts estimated = ResourceAmountsEstimator.getEstimatedAmounts();
     return ResourceAmounts.of(
         getDelegate().getNumThreads(estimated.getCpu()),
         getDelegate()
             .getInteger(RESOURCES_SECTION_HEADER, "max_memory_resource")
-            .orElse(estimated.getMemory()),
+            .orElseGet(
+                () ->
+                    isAdaptiveResourceAmountsEnabled()
+                        ? ResourceAmountsEstimator.getPhysicalMemoryCap()
+                        : estimated.getMemory()),
         getDelegate()
             .getInteger(RESOURCES_SECTION_HEADER, "max_disk_io_resource")
             .orElse(estimated.getDiskIO()),
@@ -509,6 +509,20 @@ abstract class AbstractCxxSourceRuleFactory {
       }
     }
 
+    // The object cache keys objects by their preprocessed source, which doesn't cover the contents
+    // of precompiled headers.
+    Optional<CxxObjectCache> objectCache =
+        precompiledHeaderRule.isPresent()
+            ? Optional.empty()
+            : getCxxBuckConfig()
+                .getObjectCacheDir()
+                .map(
+                    dir ->
+                        CxxObjectCache.forDirectory(
+                            getProjectFilesystem(),
+                            dir,
+                            getCxxBuckConfig().getObjectCacheMaxSizeBytes()));
+
     return CxxPreprocessAndCompile.preprocessAndCompile(
         target,
         getProjectFilesystem(),
@@ -520,7 +534,8 @@ abstract class AbstractCxxSourceRuleFactory {
         source.getType(),
         precompiledHeaderRule,
         getSanitizerForSourceType(source.getType()),
-        getSandboxTree());
+        getSandboxTree(),
+        objectCache);
   }
 
   Optional<CxxPrecompiledHeader> getOptionalPrecompiledHeader(
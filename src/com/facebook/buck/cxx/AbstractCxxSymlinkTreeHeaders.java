@@ -56,6 +56,9 @@ abstract class AbstractCxxSymlinkTreeHeaders extends CxxHeaders {
   @Override
   public abstract Optional<SourcePath> getHeaderMap();
 
+  @Override
+  public abstract Optional<SourcePath> getVfsOverlay();
+
   @Value.Auxiliary
   abstract ImmutableMap<Path, SourcePath> getNameToPathMap();
 
@@ -75,6 +78,7 @@ abstract class AbstractCxxSymlinkTreeHeaders extends CxxHeaders {
     ruleFinder.getRule(getRoot()).ifPresent(builder);
     ruleFinder.getRule(getIncludeRoot()).ifPresent(builder);
     getHeaderMap().flatMap(ruleFinder::getRule).ifPresent(builder);
+    getVfsOverlay().flatMap(ruleFinder::getRule).ifPresent(builder);
     return builder.build().distinct();
   }
 
@@ -117,6 +121,11 @@ abstract class AbstractCxxSymlinkTreeHeaders extends CxxHeaders {
               symlinkTree.getBuildTarget(),
               symlinkTree.getProjectFilesystem().relativize(symlinkTree.getRoot())));
     }
+    if (symlinkTree.getVfsOverlay().isPresent()) {
+      builder.setVfsOverlay(
+          ExplicitBuildTargetSourcePath.of(
+              symlinkTree.getBuildTarget(), symlinkTree.getVfsOverlay().get()));
+    }
     builder.putAllNameToPathMap(symlinkTree.getLinks());
     return builder.build();
   }
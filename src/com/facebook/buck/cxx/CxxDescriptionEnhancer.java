@@ -117,6 +117,13 @@ public class CxxDescriptionEnhancer {
 
   public static HeaderMode getHeaderModeForPlatform(
       BuildRuleResolver resolver, CxxPlatform cxxPlatform, boolean shouldCreateHeadersSymlinks) {
+    // A VFS overlay stands in for the tree of symbolic links, pointing at the original headers.
+    if (shouldCreateHeadersSymlinks
+        && cxxPlatform.getHeadersVfsOverlayEnabled()
+        && cxxPlatform.getCpp().resolve(resolver).supportsVfsOverlays()
+        && cxxPlatform.getCxxpp().resolve(resolver).supportsVfsOverlays()) {
+      return HeaderMode.VFS_OVERLAY;
+    }
     boolean useHeaderMap =
         (cxxPlatform.getCpp().resolve(resolver).supportsHeaderMaps()
             && cxxPlatform.getCxxpp().resolve(resolver).supportsHeaderMaps());
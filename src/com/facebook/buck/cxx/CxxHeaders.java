@@ -33,8 +33,10 @@ import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 
@@ -50,6 +52,14 @@ public abstract class CxxHeaders implements RuleKeyAppendable {
   /** @return the path to the optional header map to use for this header pack. */
   public abstract Optional<SourcePath> getHeaderMap();
 
+  /**
+   * @return the path to the optional virtual file system overlay the preprocessor needs to read to
+   *     find the includes of this header pack.
+   */
+  public Optional<SourcePath> getVfsOverlay() {
+    return Optional.empty();
+  }
+
   /**
    * @return the path to add to the preprocessor search path to find the includes. This defaults to
    *     the root, but can be overridden to use an alternate path.
@@ -87,7 +97,13 @@ public abstract class CxxHeaders implements RuleKeyAppendable {
     // 2) De-duplicate redundant include paths.
     Multimap<CxxPreprocessables.IncludeType, String> headerMaps = LinkedHashMultimap.create();
     Multimap<CxxPreprocessables.IncludeType, String> roots = LinkedHashMultimap.create();
+    Set<String> vfsOverlays = new LinkedHashSet<>();
     for (CxxHeaders cxxHeaders : cxxHeaderses) {
+      Optional<SourcePath> vfsOverlay = cxxHeaders.getVfsOverlay();
+      if (vfsOverlay.isPresent()) {
+        vfsOverlays.add(
+            resolveSourcePathAndShorten(resolver, vfsOverlay.get(), pathMinimizer).toString());
+      }
       Optional<SourcePath> headerMap = cxxHeaders.getHeaderMap();
       if (headerMap.isPresent()) {
         headerMaps.put(
@@ -102,6 +118,11 @@ public abstract class CxxHeaders implements RuleKeyAppendable {
       }
     }
 
+    // The overlays have to be read before any of the virtual include roots are searched.
+    if (!vfsOverlays.isEmpty()) {
+      args.addAll(preprocessor.vfsOverlayArgs(vfsOverlays));
+    }
+
     // Define the include type ordering.  We always add local ("-I") include paths first so that
     // headers match there before system ("-isystem") ones.
     ImmutableSet<CxxPreprocessables.IncludeType> includeTypes =
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactInfo;
+import com.facebook.buck.artifact_cache.CacheReadMode;
+import com.facebook.buck.artifact_cache.CacheResult;
+import com.facebook.buck.artifact_cache.CacheResultType;
+import com.facebook.buck.artifact_cache.DirArtifactCache;
+import com.facebook.buck.io.file.BorrowablePath;
+import com.facebook.buck.io.file.LazyPath;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.util.HumanReadableException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.Futures;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A cache of object files keyed by the preprocessed translation unit they were compiled from, the
+ * compiler and the flags which still matter once a source has been preprocessed. Unlike the rule
+ * key of a {@link CxxPreprocessAndCompile}, the key doesn't change when a header the source
+ * doesn't actually include changes, or when only preprocessor flags such as include paths are
+ * added or reordered, so an object can be reused across different rule keys.
+ */
+class CxxObjectCache {
+
+  private static final Logger LOG = Logger.get(CxxObjectCache.class);
+
+  // Bump this whenever the way keys are computed changes.
+  private static final String KEY_VERSION = "1";
+
+  private static final String STDERR_METADATA_KEY = "CXX_STDERR";
+
+  /** Flags which only affect preprocessing and whose value is the next argument. */
+  private static final ImmutableSet<String> PREPROCESSOR_FLAGS_WITH_SEPARATE_VALUE =
+      ImmutableSet.of(
+          "-D",
+          "-F",
+          "-I",
+          "-U",
+          "-idirafter",
+          "-imacros",
+          "-include",
+          "-iprefix",
+          "-iquote",
+          "-isystem",
+          "-ivfsoverlay",
+          "-iwithprefix",
+          "-iwithprefixbefore");
+
+  /** Flags which only affect preprocessing and may have their value appended to them. */
+  private static final ImmutableList<String> PREPROCESSOR_FLAGS_WITH_JOINED_VALUE =
+      ImmutableList.of("-D", "-F", "-I", "-U", "-idirafter", "-iquote", "-isystem");
+
+  /**
+   * Flags with which the preprocessed source doesn't determine the object, e.g. because clang
+   * modules are imported rather than preprocessed, or which make the compiler write more outputs
+   * than the object.
+   */
+  private static final ImmutableList<String> UNSUPPORTED_FLAG_PREFIXES =
+      ImmutableList.of(
+          "--coverage",
+          "-fmodules",
+          "-ftest-coverage",
+          "-gsplit-dwarf",
+          "-include-pch",
+          "-save-temps");
+
+  // Shared by all builds in the daemon, so that objects are stored and trimmed by a single cache.
+  private static final ConcurrentMap<Path, CxxObjectCache> CACHES = new ConcurrentHashMap<>();
+
+  private final ArtifactCache cache;
+
+  @VisibleForTesting
+  CxxObjectCache(ArtifactCache cache) {
+    this.cache = cache;
+  }
+
+  /** @return the cache storing objects in the given absolute directory. */
+  static CxxObjectCache forDirectory(
+      ProjectFilesystem filesystem, Path cacheDir, Optional<Long> maxCacheSizeBytes) {
+    return CACHES.computeIfAbsent(
+        cacheDir,
+        dir -> {
+          try {
+            // All paths passed to the cache are absolute, so it may use any filesystem.
+            return new CxxObjectCache(
+                new DirArtifactCache(
+                    "cxx_objects", filesystem, dir, CacheReadMode.READWRITE, maxCacheSizeBytes));
+          } catch (IOException e) {
+            throw new HumanReadableException(
+                e, "Unable to create the C/C++ object cache in %s: %s", dir, e.getMessage());
+          }
+        });
+  }
+
+  /** @return whether objects compiled with the given arguments can be cached. */
+  static boolean isSupported(Iterable<String> arguments) {
+    for (String argument : arguments) {
+      for (String prefix : UNSUPPORTED_FLAG_PREFIXES) {
+        if (argument.startsWith(prefix)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /** @return the given compiler arguments without those that only affect preprocessing. */
+  @VisibleForTesting
+  static ImmutableList<String> getCompilationArguments(Iterable<String> arguments) {
+    ImmutableList.Builder<String> compilationArguments = ImmutableList.builder();
+    Iterator<String> iterator = arguments.iterator();
+    while (iterator.hasNext()) {
+      String argument = iterator.next();
+      if (PREPROCESSOR_FLAGS_WITH_SEPARATE_VALUE.contains(argument)) {
+        if (iterator.hasNext()) {
+          iterator.next();
+        }
+      } else if (!isPreprocessorFlagWithJoinedValue(argument)) {
+        compilationArguments.add(argument);
+      }
+    }
+    return compilationArguments.build();
+  }
+
+  private static boolean isPreprocessorFlagWithJoinedValue(String argument) {
+    for (String flag : PREPROCESSOR_FLAGS_WITH_JOINED_VALUE) {
+      if (argument.startsWith(flag) && argument.length() > flag.length()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the key of the object compiled from the given preprocessed source with the given
+   *     compiler and compilation arguments.
+   */
+  RuleKey computeKey(
+      ImmutableList<String> commandPrefix,
+      ImmutableMap<String, String> environment,
+      ImmutableList<String> compilationArguments,
+      Path preprocessedSource)
+      throws IOException {
+    Hasher hasher = Hashing.sha1().newHasher();
+    hasher.putString(KEY_VERSION, Charsets.UTF_8);
+    putStrings(hasher, commandPrefix);
+    if (!commandPrefix.isEmpty()) {
+      // Catch compilers being upgraded in place.
+      Path compiler = Paths.get(commandPrefix.get(0));
+      if (compiler.isAbsolute() && Files.isRegularFile(compiler)) {
+        hasher.putLong(Files.size(compiler));
+        hasher.putLong(Files.getLastModifiedTime(compiler).toMillis());
+      }
+    }
+    for (Map.Entry<String, String> entry : ImmutableSortedMap.copyOf(environment).entrySet()) {
+      putStrings(hasher, ImmutableList.of(entry.getKey(), entry.getValue()));
+    }
+    putStrings(hasher, compilationArguments);
+    byte[] buffer = new byte[64 * 1024];
+    try (InputStream input = Files.newInputStream(preprocessedSource)) {
+      for (int read = input.read(buffer); read != -1; read = input.read(buffer)) {
+        hasher.putBytes(buffer, 0, read);
+      }
+    }
+    return new RuleKey(hasher.hash());
+  }
+
+  private static void putStrings(Hasher hasher, ImmutableList<String> strings) {
+    hasher.putInt(strings.size());
+    for (String string : strings) {
+      hasher.putInt(string.length());
+      hasher.putString(string, Charsets.UTF_8);
+    }
+  }
+
+  /**
+   * Fetches the object with the given key to the given absolute path.
+   *
+   * @return the diagnostics the compiler printed when it compiled the object, if it was found.
+   */
+  Optional<String> fetch(RuleKey key, Path output) {
+    CacheResult result = Futures.getUnchecked(cache.fetchAsync(key, LazyPath.ofInstance(output)));
+    if (result.getType() != CacheResultType.HIT) {
+      LOG.verbose("Object cache %s for %s", result.getType(), output);
+      return Optional.empty();
+    }
+    return Optional.of(result.getMetadata().getOrDefault(STDERR_METADATA_KEY, ""));
+  }
+
+  /** Stores the object at the given absolute path, along with the compiler's diagnostics. */
+  void store(RuleKey key, Path output, String stderr) {
+    Futures.getUnchecked(
+        cache.store(
+            ArtifactInfo.builder()
+                .addRuleKeys(key)
+                .setMetadata(ImmutableMap.of(STDERR_METADATA_KEY, stderr))
+                .build(),
+            BorrowablePath.notBorrowablePath(output)));
+  }
+}
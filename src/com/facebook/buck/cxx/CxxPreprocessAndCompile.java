@@ -69,6 +69,7 @@ public class CxxPreprocessAndCompile extends AbstractBuildRuleWithDeclaredAndExt
   private final CxxSource.Type inputType;
   private final DebugPathSanitizer sanitizer;
   private final Optional<SymlinkTree> sandboxTree;
+  private final Optional<CxxObjectCache> objectCache;
 
   private CxxPreprocessAndCompile(
       BuildTarget buildTarget,
@@ -81,9 +82,11 @@ public class CxxPreprocessAndCompile extends AbstractBuildRuleWithDeclaredAndExt
       CxxSource.Type inputType,
       Optional<CxxPrecompiledHeader> precompiledHeaderRule,
       DebugPathSanitizer sanitizer,
-      Optional<SymlinkTree> sandboxTree) {
+      Optional<SymlinkTree> sandboxTree,
+      Optional<CxxObjectCache> objectCache) {
     super(buildTarget, projectFilesystem, params);
     this.sandboxTree = sandboxTree;
+    this.objectCache = objectCache;
     if (precompiledHeaderRule.isPresent()) {
       Preconditions.checkState(
           preprocessDelegate.isPresent(),
@@ -129,7 +132,8 @@ public class CxxPreprocessAndCompile extends AbstractBuildRuleWithDeclaredAndExt
         inputType,
         Optional.empty(),
         sanitizer,
-        sandboxTree);
+        sandboxTree,
+        Optional.empty());
   }
 
   /**
@@ -146,7 +150,8 @@ public class CxxPreprocessAndCompile extends AbstractBuildRuleWithDeclaredAndExt
       CxxSource.Type inputType,
       Optional<CxxPrecompiledHeader> precompiledHeaderRule,
       DebugPathSanitizer sanitizer,
-      Optional<SymlinkTree> sandboxTree) {
+      Optional<SymlinkTree> sandboxTree,
+      Optional<CxxObjectCache> objectCache) {
     return new CxxPreprocessAndCompile(
         buildTarget,
         projectFilesystem,
@@ -158,7 +163,8 @@ public class CxxPreprocessAndCompile extends AbstractBuildRuleWithDeclaredAndExt
         inputType,
         precompiledHeaderRule,
         sanitizer,
-        sandboxTree);
+        sandboxTree,
+        objectCache);
   }
 
   @Override
@@ -228,7 +234,8 @@ public class CxxPreprocessAndCompile extends AbstractBuildRuleWithDeclaredAndExt
                 .setTarget(getBuildTarget())
                 .setSourcePath(relativeInputPath)
                 .setOutputPath(output)
-                .build()));
+                .build()),
+        objectCache);
   }
 
   public Path getRelativeInputPath(SourcePathResolver resolver) {
@@ -22,6 +22,7 @@ import com.facebook.buck.cxx.toolchain.DependencyTrackingMode;
 import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.log.Logger;
+import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.step.ExecutionContext;
 import com.facebook.buck.step.Step;
 import com.facebook.buck.step.StepExecutionResult;
@@ -62,6 +63,7 @@ class CxxPreprocessAndCompileStep implements Step {
   private final DebugPathSanitizer sanitizer;
   private final Compiler compiler;
   private final Optional<CxxLogInfo> cxxLogInfo;
+  private final Optional<CxxObjectCache> objectCache;
 
   /** Directory to use to store intermediate/temp files used for compilation. */
   private final Path scratchDir;
@@ -86,7 +88,8 @@ class CxxPreprocessAndCompileStep implements Step {
       Path scratchDir,
       boolean useArgfile,
       Compiler compiler,
-      Optional<CxxLogInfo> cxxLogInfo) {
+      Optional<CxxLogInfo> cxxLogInfo,
+      Optional<CxxObjectCache> objectCache) {
     this.filesystem = filesystem;
     this.operation = operation;
     this.output = output;
@@ -100,6 +103,7 @@ class CxxPreprocessAndCompileStep implements Step {
     this.useArgfile = useArgfile;
     this.compiler = compiler;
     this.cxxLogInfo = cxxLogInfo;
+    this.objectCache = objectCache;
   }
 
   @Override
@@ -143,24 +147,29 @@ class CxxPreprocessAndCompileStep implements Step {
     return filesystem.resolve(scratchDir).resolve("ppandcompile.argsfile");
   }
 
+  private Path getPreprocessArgfile() {
+    return filesystem.resolve(scratchDir).resolve("preprocess.argsfile");
+  }
+
+  private Path getPreprocessedSource() {
+    return filesystem.resolve(scratchDir).resolve("preprocessed.i");
+  }
+
   @VisibleForTesting
   ImmutableList<String> getArguments(boolean allowColorsInDiagnostics) {
-    String inputLanguage =
-        operation == Operation.GENERATE_PCH
-            ? inputType.getPrecompiledHeaderLanguage().get()
-            : inputType.getLanguage();
+    return getArguments(allowColorsInDiagnostics, "-c", output);
+  }
+
+  private ImmutableList<String> getArguments(
+      boolean allowColorsInDiagnostics, String operationFlag, Path output) {
     return ImmutableList.<String>builder()
         .addAll(
             (allowColorsInDiagnostics
                     ? compiler.getFlagsForColorDiagnostics()
                     : Optional.<ImmutableList<String>>empty())
                 .orElseGet(ImmutableList::of))
-        .addAll(compiler.languageArgs(inputLanguage))
-        .addAll(command.getArguments())
-        .addAll(
-            sanitizer.getCompilationFlags(
-                compiler, filesystem.getRootPath(), headerPathNormalizer.getPrefixMap()))
-        .add("-c")
+        .addAll(getCompilerFlags())
+        .add(operationFlag)
         .addAll(
             depFile
                 .map(depFile -> compiler.outputDependenciesArgs(depFile.toString()))
@@ -170,25 +179,52 @@ class CxxPreprocessAndCompileStep implements Step {
         .build();
   }
 
-  private ProcessExecutor.Result executeCompilation(ExecutionContext context)
+  /** @return the flags passed to the compiler, without those naming its inputs and outputs. */
+  private ImmutableList<String> getCompilerFlags() {
+    String inputLanguage =
+        operation == Operation.GENERATE_PCH
+            ? inputType.getPrecompiledHeaderLanguage().get()
+            : inputType.getLanguage();
+    return ImmutableList.<String>builder()
+        .addAll(compiler.languageArgs(inputLanguage))
+        .addAll(command.getArguments())
+        .addAll(
+            sanitizer.getCompilationFlags(
+                compiler, filesystem.getRootPath(), headerPathNormalizer.getPrefixMap()))
+        .build();
+  }
+
+  private ProcessExecutor.Result executeCompilation(
+      ExecutionContext context, boolean allowColorsInDiagnostics)
+      throws IOException, InterruptedException {
+    ProcessExecutor.Result result =
+        runCompiler(context, getArguments(allowColorsInDiagnostics), getArgfile());
+    processResult(result, context);
+    return result;
+  }
+
+  /**
+   * Runs the compiler with the given arguments.
+   *
+   * @return the result of the run, with its stderr sanitized.
+   */
+  private ProcessExecutor.Result runCompiler(
+      ExecutionContext context, ImmutableList<String> arguments, Path argfile)
       throws IOException, InterruptedException {
     ProcessExecutorParams.Builder builder = makeSubprocessBuilder(context);
 
     if (useArgfile) {
-      filesystem.writeLinesToPath(
-          Iterables.transform(
-              getArguments(context.getAnsi().isAnsiTerminal()), Escaper.ARGFILE_ESCAPER),
-          getArgfile());
+      filesystem.writeLinesToPath(Iterables.transform(arguments, Escaper.ARGFILE_ESCAPER), argfile);
       builder.setCommand(
           ImmutableList.<String>builder()
               .addAll(command.getCommandPrefix())
-              .add("@" + getArgfile())
+              .add("@" + argfile)
               .build());
     } else {
       builder.setCommand(
           ImmutableList.<String>builder()
               .addAll(command.getCommandPrefix())
-              .addAll(getArguments(context.getAnsi().isAnsiTerminal()))
+              .addAll(arguments)
               .build());
     }
 
@@ -200,11 +236,8 @@ class CxxPreprocessAndCompileStep implements Step {
         new DefaultProcessExecutor(Console.createNullConsole()).launchAndExecute(params);
 
     String err = getSanitizedStderr(result, context);
-    result =
-        new ProcessExecutor.Result(
-            result.getExitCode(), result.isTimedOut(), result.getStdout(), Optional.of(err));
-    processResult(result, context);
-    return result;
+    return new ProcessExecutor.Result(
+        result.getExitCode(), result.isTimedOut(), result.getStdout(), Optional.of(err));
   }
 
   private void processResult(ProcessExecutor.Result result, ExecutionContext context)
@@ -283,7 +316,17 @@ class CxxPreprocessAndCompileStep implements Step {
       throws IOException, InterruptedException {
     LOG.debug("%s %s -> %s", operation.toString().toLowerCase(), input, output);
 
-    ProcessExecutor.Result result = executeCompilation(context);
+    if (objectCache.isPresent() && canUseObjectCache()) {
+      return executeWithObjectCache(context, objectCache.get());
+    }
+
+    ProcessExecutor.Result result =
+        executeCompilation(context, context.getAnsi().isAnsiTerminal());
+    finishCompilation(result);
+    return StepExecutionResult.of(result);
+  }
+
+  private void finishCompilation(ProcessExecutor.Result result) throws IOException {
     int exitCode = result.getExitCode();
 
     // If the compilation completed successfully and we didn't effect debug-info normalization
@@ -299,7 +342,61 @@ class CxxPreprocessAndCompileStep implements Step {
     if (exitCode != 0) {
       LOG.warn("error %d %s %s", exitCode, operation.toString().toLowerCase(), input);
     }
+  }
+
+  /**
+   * The object cache is keyed by the preprocessed source, which only determines the object when
+   * the compiler writes a makefile style depfile while preprocessing, and when it doesn't pull in
+   * anything that isn't preprocessed, like precompiled headers.
+   */
+  private boolean canUseObjectCache() {
+    return operation == Operation.PREPROCESS_AND_COMPILE
+        && !inputType.isAssembly()
+        && depFile.isPresent()
+        && compiler.getDependencyTrackingMode() == DependencyTrackingMode.MAKEFILE
+        && CxxObjectCache.isSupported(command.getArguments());
+  }
+
+  /**
+   * Preprocesses the source, and fetches the object compiled from the preprocessed source from the
+   * object cache. If it isn't cached, the source is compiled as usual and the object is stored.
+   * Diagnostics are printed without colors, so that they can be replayed on any terminal.
+   */
+  private StepExecutionResult executeWithObjectCache(
+      ExecutionContext context, CxxObjectCache objectCache)
+      throws IOException, InterruptedException {
+    // Preprocessing also writes the depfile, so it is present when the object is fetched.
+    Path preprocessedSource = getPreprocessedSource();
+    ProcessExecutor.Result result =
+        runCompiler(context, getArguments(false, "-E", preprocessedSource), getPreprocessArgfile());
+    if (result.getExitCode() != 0) {
+      processResult(result, context);
+      finishCompilation(result);
+      return StepExecutionResult.of(result);
+    }
 
+    RuleKey key =
+        objectCache.computeKey(
+            command.getCommandPrefix(),
+            command.getEnvironment(),
+            CxxObjectCache.getCompilationArguments(getCompilerFlags()),
+            preprocessedSource);
+    filesystem.deleteFileAtPathIfExists(preprocessedSource);
+    Path absoluteOutput = filesystem.resolve(output);
+
+    Optional<String> cachedStderr = objectCache.fetch(key, absoluteOutput);
+    if (cachedStderr.isPresent()) {
+      LOG.debug("Fetched %s from the object cache with key %s", output, key);
+      result = new ProcessExecutor.Result(0, false, Optional.empty(), cachedStderr);
+      processResult(result, context);
+      return StepExecutionResult.of(result);
+    }
+
+    result = executeCompilation(context, false);
+    finishCompilation(result);
+    if (result.getExitCode() == 0) {
+      objectCache.store(key, absoluteOutput, result.getStderr().orElse(""));
+    }
     return StepExecutionResult.of(result);
   }
 
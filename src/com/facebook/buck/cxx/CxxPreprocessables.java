@@ -160,6 +160,8 @@ public class CxxPreprocessables {
         return HeaderSymlinkTreeWithHeaderMap.create(target, filesystem, root, links);
       case HEADER_MAP_ONLY:
         return new DirectHeaderMap(target, filesystem, root, links);
+      case VFS_OVERLAY:
+        return new HeaderVfsOverlay(target, filesystem, root, links);
       default:
       case SYMLINK_TREE_ONLY:
         return new HeaderSymlinkTree(target, filesystem, root, links);
@@ -213,6 +213,11 @@ abstract class CxxTest extends AbstractBuildRuleWithDeclaredAndExtraDeps
     return false;
   }
 
+  @Override
+  public boolean supportsCachingTestResults() {
+    return true;
+  }
+
   @Override
   public Stream<BuildTarget> getRuntimeDeps(SourcePathRuleFinder ruleFinder) {
     return additionalDeps.get().stream().map(BuildRule::getBuildTarget);
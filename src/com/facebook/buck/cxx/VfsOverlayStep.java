@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.step.ExecutionContext;
+import com.facebook.buck.step.Step;
+import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.util.ObjectMappers;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Writes a clang virtual file system overlay, which makes the compiler see the given files under
+ * the root directory, at their relative paths, without them existing there.
+ */
+class VfsOverlayStep implements Step {
+
+  private static final Logger LOG = Logger.get(VfsOverlayStep.class);
+
+  private final ProjectFilesystem filesystem;
+  private final Path output;
+  private final Path root;
+  private final ImmutableMap<Path, Path> entries;
+
+  /**
+   * @param root the absolute path of the virtual directory.
+   * @param entries the absolute paths of the files, by their path relative to {@code root}.
+   */
+  public VfsOverlayStep(
+      ProjectFilesystem filesystem, Path output, Path root, ImmutableMap<Path, Path> entries) {
+    this.filesystem = filesystem;
+    this.output = output;
+    this.root = root;
+    this.entries = entries;
+  }
+
+  @Override
+  public String getDescription(ExecutionContext context) {
+    return "vfs overlay @ " + output.toString();
+  }
+
+  @Override
+  public String getShortName() {
+    return "vfs_overlay";
+  }
+
+  @Override
+  public StepExecutionResult execute(ExecutionContext context)
+      throws IOException, InterruptedException {
+    LOG.debug("Writing vfs overlay with %d entries to %s", entries.size(), output);
+
+    // The overlay lists the contents of each directory, so arrange the entries as a tree, in which
+    // directories map to their children and files to their external paths.
+    SortedMap<String, Object> tree = new TreeMap<>();
+    for (Map.Entry<Path, Path> entry : entries.entrySet()) {
+      SortedMap<String, Object> directory = tree;
+      Path parent = entry.getKey().getParent();
+      if (parent != null) {
+        for (Path name : parent) {
+          directory = getDirectory(directory, name.toString(), entry.getKey());
+        }
+      }
+      Object previous = directory.put(entry.getKey().getFileName().toString(), entry.getValue());
+      if (previous != null) {
+        throw new IOException(
+            String.format("%s is both a header and a directory of headers.", entry.getKey()));
+      }
+    }
+
+    try (OutputStream stream = filesystem.newFileOutputStream(output);
+        JsonGenerator generator = ObjectMappers.createGenerator(stream)) {
+      generator.writeStartObject();
+      generator.writeNumberField("version", 0);
+      // Report the original headers in dep files, like header maps do, so that they can be mapped
+      // back to the headers they came from.
+      generator.writeStringField("use-external-names", "true");
+      generator.writeArrayFieldStart("roots");
+      writeDirectory(generator, root.toString(), tree);
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+    return StepExecutionResult.SUCCESS;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static SortedMap<String, Object> getDirectory(
+      SortedMap<String, Object> parent, String name, Path entry) throws IOException {
+    Object child = parent.computeIfAbsent(name, key -> new TreeMap<String, Object>());
+    if (!(child instanceof SortedMap)) {
+      throw new IOException(
+          String.format("%s is both a header and a directory of headers.", entry));
+    }
+    return (SortedMap<String, Object>) child;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void writeDirectory(
+      JsonGenerator generator, String name, SortedMap<String, Object> contents)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("type", "directory");
+    generator.writeStringField("name", name);
+    generator.writeArrayFieldStart("contents");
+    for (Map.Entry<String, Object> child : contents.entrySet()) {
+      if (child.getValue() instanceof SortedMap) {
+        writeDirectory(
+            generator, child.getKey(), (SortedMap<String, Object>) child.getValue());
+      } else {
+        generator.writeStartObject();
+        generator.writeStringField("type", "file");
+        generator.writeStringField("name", child.getKey());
+        generator.writeStringField("external-contents", child.getValue().toString());
+        generator.writeEndObject();
+      }
+    }
+    generator.writeEndArray();
+    generator.writeEndObject();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof VfsOverlayStep)) {
+      return false;
+    }
+    VfsOverlayStep that = (VfsOverlayStep) obj;
+    return Objects.equal(this.output, that.output)
+        && Objects.equal(this.root, that.root)
+        && Objects.equal(this.entries, that.entries);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(output, root, entries);
+  }
+}
@@ -134,4 +134,10 @@ interface AbstractCxxPlatform extends FlavorConvertible {
 
   /** When building or creating a project, create symlinks for the public headers if it's true. */
   boolean getPrivateHeadersSymlinksEnabled();
+
+  /**
+   * When building, present headers which would be symlinked through a virtual file system overlay
+   * instead, if the preprocessors support it.
+   */
+  boolean getHeadersVfsOverlayEnabled();
 }
@@ -41,6 +41,11 @@ public class ClangPreprocessor extends AbstractPreprocessor {
     return true;
   }
 
+  @Override
+  public boolean supportsVfsOverlays() {
+    return true;
+  }
+
   @Override
   public boolean supportsPrecompiledHeaders() {
     return true;
@@ -61,6 +66,11 @@ public class ClangPreprocessor extends AbstractPreprocessor {
     return MoreIterables.zipAndConcat(Iterables.cycle("-iquote"), includeRoots);
   }
 
+  @Override
+  public final Iterable<String> vfsOverlayArgs(Iterable<String> vfsOverlays) {
+    return MoreIterables.zipAndConcat(Iterables.cycle("-ivfsoverlay"), vfsOverlays);
+  }
+
   @Override
   public final Iterable<String> prefixHeaderArgs(
       SourcePathResolver resolver, SourcePath prefixHeader) {
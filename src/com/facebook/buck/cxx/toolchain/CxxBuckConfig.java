@@ -31,6 +31,7 @@ import com.facebook.buck.rules.tool.config.ToolConfig;
 import com.facebook.buck.util.MoreCollectors;
 import com.facebook.buck.util.environment.Platform;
 import com.facebook.buck.util.immutables.BuckStyleImmutable;
+import com.facebook.buck.util.unit.SizeUnit;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
@@ -38,6 +39,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 import org.immutables.value.Value;
 
@@ -232,6 +234,24 @@ public class CxxBuckConfig {
     return delegate.getBooleanValue(cxxSection, "headers_symlinks_enabled", true);
   }
 
+  public boolean getHeadersVfsOverlayEnabled() {
+    return delegate.getBooleanValue(cxxSection, "headers_vfs_overlay_enabled", false);
+  }
+
+  /**
+   * @return the directory of the cache of object files keyed by the preprocessed sources they were
+   *     compiled from, if that cache is enabled.
+   */
+  public Optional<Path> getObjectCacheDir() {
+    return delegate
+        .getValue(cxxSection, "object_cache_dir")
+        .map(dir -> delegate.resolvePathThatMayBeOutsideTheProjectFilesystem(Paths.get(dir)));
+  }
+
+  public Optional<Long> getObjectCacheMaxSizeBytes() {
+    return delegate.getValue(cxxSection, "object_cache_max_size").map(SizeUnit::parseBytes);
+  }
+
   public Optional<RuleScheduleInfo> getLinkScheduleInfo() {
     Optional<Long> linkWeight = delegate.getLong(cxxSection, "link_weight");
     if (!linkWeight.isPresent()) {
@@ -127,7 +127,8 @@ public class CxxPlatforms {
         .setBinaryExtension(binaryExtension)
         .setHeaderVerification(headerVerification)
         .setPublicHeadersSymlinksEnabled(config.getPublicHeadersSymlinksEnabled())
-        .setPrivateHeadersSymlinksEnabled(config.getPrivateHeadersSymlinksEnabled());
+        .setPrivateHeadersSymlinksEnabled(config.getPrivateHeadersSymlinksEnabled())
+        .setHeadersVfsOverlayEnabled(config.getHeadersVfsOverlayEnabled());
 
     builder.setSymbolNameTool(
         new LazyDelegatingSymbolNameTool(
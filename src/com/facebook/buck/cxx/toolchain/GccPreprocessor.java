@@ -42,6 +42,11 @@ public class GccPreprocessor extends AbstractPreprocessor {
     return false;
   }
 
+  @Override
+  public boolean supportsVfsOverlays() {
+    return false;
+  }
+
   @Override
   public boolean supportsPrecompiledHeaders() {
     return true;
@@ -77,4 +82,9 @@ public class GccPreprocessor extends AbstractPreprocessor {
     String hFilename = pchFilename.substring(0, pchFilename.length() - 4);
     return ImmutableList.of("-include", hFilename);
   }
+
+  @Override
+  public Iterable<String> vfsOverlayArgs(Iterable<String> vfsOverlays) {
+    throw new UnsupportedOperationException("VFS overlays not supported by " + getClass());
+  }
 }
@@ -32,6 +32,11 @@ public enum HeaderMode implements FlavorConvertible {
    * symbolic links to the headers.
    */
   SYMLINK_TREE_WITH_HEADER_MAP,
+  /**
+   * Creates a virtual file system overlay which presents the headers in the source tree as the tree
+   * of symbolic links would, without creating the links.
+   */
+  VFS_OVERLAY,
   ;
 
   private final Flavor flavor;
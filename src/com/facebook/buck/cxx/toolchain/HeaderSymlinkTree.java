@@ -48,4 +48,12 @@ public class HeaderSymlinkTree extends SymlinkTree {
   public Optional<Path> getHeaderMap() {
     return Optional.empty();
   }
+
+  /**
+   * Get path of the virtual file system overlay presenting this tree if one exists, in which case
+   * the include path only exists for the preprocessor reading the overlay.
+   */
+  public Optional<Path> getVfsOverlay() {
+    return Optional.empty();
+  }
 }
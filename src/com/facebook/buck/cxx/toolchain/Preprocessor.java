@@ -30,6 +30,9 @@ public interface Preprocessor extends Tool {
 
   boolean supportsHeaderMaps();
 
+  /** @return whether the preprocessor can read headers through a virtual file system overlay. */
+  boolean supportsVfsOverlays();
+
   boolean supportsPrecompiledHeaders();
 
   Iterable<String> localIncludeArgs(Iterable<String> includeRoots);
@@ -40,6 +43,8 @@ public interface Preprocessor extends Tool {
 
   Iterable<String> precompiledHeaderArgs(Path pchOutputPath);
 
+  Iterable<String> vfsOverlayArgs(Iterable<String> vfsOverlays);
+
   Iterable<String> prefixHeaderArgs(SourcePathResolver resolver, SourcePath prefixHeader);
 
   /**
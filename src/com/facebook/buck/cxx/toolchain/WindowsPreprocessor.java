@@ -36,6 +36,11 @@ public class WindowsPreprocessor extends AbstractPreprocessor {
     return false;
   }
 
+  @Override
+  public boolean supportsVfsOverlays() {
+    return false;
+  }
+
   @Override
   public boolean supportsPrecompiledHeaders() {
     // TODO(steveo) Should be easy to add support; will try @ later time,
@@ -79,4 +84,9 @@ public class WindowsPreprocessor extends AbstractPreprocessor {
     // E.g. something like this flag (no space between "/Yu" and its argument):
     // return ImmutableList.of("/Yu" + pchOutputPath);
   }
+
+  @Override
+  public Iterable<String> vfsOverlayArgs(Iterable<String> vfsOverlays) {
+    throw new UnsupportedOperationException("VFS overlays not supported by " + getClass());
+  }
 }
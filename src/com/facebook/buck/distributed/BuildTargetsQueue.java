@@ -19,6 +19,8 @@ import com.facebook.buck.distributed.thrift.WorkUnit;
 import com.facebook.buck.log.Logger;
 import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.BuildRuleDurationEstimator;
+import com.facebook.buck.rules.BuildRuleDurationHistory;
 import com.facebook.buck.rules.BuildRuleResolver;
 import com.facebook.buck.rules.HasRuntimeDeps;
 import com.facebook.buck.rules.SourcePathRuleFinder;
@@ -29,7 +31,10 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Lists;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -43,6 +48,13 @@ import java.util.stream.Stream;
 public class BuildTargetsQueue {
   private static final Logger LOG = Logger.get(BuildTargetsQueue.class);
 
+  // Targets at the start of the longest chains of work go first, as they determine when the build
+  // can finish at the earliest.
+  private static final Comparator<EnqueuedTarget> CRITICAL_PATH_ORDER =
+      Comparator.comparingLong((EnqueuedTarget target) -> target.criticalPathWallMillis)
+          .reversed()
+          .thenComparing(EnqueuedTarget::getBuildTarget);
+
   private List<EnqueuedTarget> zeroDependencyTargets;
   private final Map<String, EnqueuedTarget> allEnqueuedTargets;
   private final Set<String> seenFinishedNodes = new HashSet<>();
@@ -60,10 +72,26 @@ public class BuildTargetsQueue {
 
   public static BuildTargetsQueue newQueue(
       BuildRuleResolver resolver, Iterable<BuildTarget> targetsToBuild) {
+    return newQueue(
+        resolver,
+        targetsToBuild,
+        new BuildRuleDurationEstimator(BuildRuleDurationHistory.empty()));
+  }
+
+  /**
+   * Creates a queue of all the rules needed to build {@code targetsToBuild}. Rules which are ready
+   * to be built are handed out in order of their estimated critical path, i.e. the time it takes to
+   * build them and the longest chain of rules depending on them.
+   */
+  public static BuildTargetsQueue newQueue(
+      BuildRuleResolver resolver,
+      Iterable<BuildTarget> targetsToBuild,
+      BuildRuleDurationEstimator durationEstimator) {
     SourcePathRuleFinder ruleFinder = new SourcePathRuleFinder(resolver);
     // Build the reverse dependency graph by traversing the action graph Top-Down.
     Map<String, Set<String>> allReverseDeps = new HashMap<>();
     Map<String, Set<String>> allForwardDeps = new HashMap<>();
+    Map<String, Long> estimatedWallMillis = new HashMap<>();
     Set<String> visitedTargets = new HashSet<>();
     Queue<BuildRule> buildRulesToProcess =
         Lists.newLinkedList(
@@ -79,6 +107,7 @@ public class BuildTargetsQueue {
 
       String target = ruleToTarget(rule);
       allForwardDeps.put(target, new HashSet<>());
+      estimatedWallMillis.put(target, durationEstimator.estimateWallMillis(rule));
 
       ImmutableSortedSet.Builder<BuildRule> allDependencies = ImmutableSortedSet.naturalOrder();
 
@@ -128,7 +157,8 @@ public class BuildTargetsQueue {
               target,
               ImmutableList.copyOf(currentRevDeps),
               allForwardDeps.get(target).size(),
-              ImmutableSet.copyOf(allForwardDeps.get(target)));
+              ImmutableSet.copyOf(allForwardDeps.get(target)),
+              estimatedWallMillis.get(target));
       allEnqueuedTargets.put(target, enqueuedTarget);
 
       if (enqueuedTarget.areAllDependenciesResolved()) {
@@ -136,14 +166,55 @@ public class BuildTargetsQueue {
       }
     }
 
+    computeCriticalPaths(allEnqueuedTargets);
+
     return new BuildTargetsQueue(zeroDependencyTargets, allEnqueuedTargets);
   }
 
+  /**
+   * Sets the critical path of every target to its own estimated duration plus the longest critical
+   * path of the targets depending on it.
+   */
+  private static void computeCriticalPaths(Map<String, EnqueuedTarget> allEnqueuedTargets) {
+    // Iterative depth-first traversal, dependency chains can be too long for recursion.
+    Deque<EnqueuedTarget> toVisit = new ArrayDeque<>();
+    for (EnqueuedTarget target : allEnqueuedTargets.values()) {
+      toVisit.push(target);
+      while (!toVisit.isEmpty()) {
+        EnqueuedTarget current = toVisit.peek();
+        if (current.criticalPathWallMillis >= 0) {
+          toVisit.pop();
+          continue;
+        }
+        boolean allDependentsVisited = true;
+        long longestDependentPath = 0;
+        for (String dependent : current.dependentTargets) {
+          EnqueuedTarget dependentTarget =
+              Preconditions.checkNotNull(allEnqueuedTargets.get(dependent));
+          if (dependentTarget.criticalPathWallMillis < 0) {
+            allDependentsVisited = false;
+            toVisit.push(dependentTarget);
+          } else {
+            longestDependentPath =
+                Math.max(longestDependentPath, dependentTarget.criticalPathWallMillis);
+          }
+        }
+        if (allDependentsVisited) {
+          toVisit.pop();
+          current.criticalPathWallMillis = current.estimatedWallMillis + longestDependentPath;
+        }
+      }
+    }
+  }
+
   public boolean hasReadyZeroDependencyNodes() {
     return zeroDependencyTargets.size() > 0;
   }
 
-  /** Returns nodes that have all their dependencies satisfied. */
+  /**
+   * Returns nodes that have all their dependencies satisfied, those on the longest critical path
+   * first.
+   */
   public List<WorkUnit> dequeueZeroDependencyNodes(List<String> finishedNodes, int maxUnitsOfWork) {
     LOG.info(
         String.format(
@@ -156,9 +227,11 @@ public class BuildTargetsQueue {
       return Lists.newArrayList();
     }
 
+    List<EnqueuedTarget> readyTargets = new ArrayList<>(zeroDependencyTargets);
+    readyTargets.sort(CRITICAL_PATH_ORDER);
+
     List<WorkUnit> newUnitsOfWork = new ArrayList<>();
-    createWorkUnitsStartingAtNodes(
-        new HashSet<>(zeroDependencyTargets), newUnitsOfWork, maxUnitsOfWork);
+    createWorkUnitsStartingAtNodes(readyTargets, newUnitsOfWork, maxUnitsOfWork);
 
     if (newUnitsOfWork.size() > 0) {
       LOG.info(String.format("Returning [%s] work units", newUnitsOfWork.size()));
@@ -211,7 +284,7 @@ public class BuildTargetsQueue {
   }
 
   private void createWorkUnitsStartingAtNodes(
-      Set<EnqueuedTarget> nodes, List<WorkUnit> newUnitsOfWork, int maxUnitsOfWork) {
+      List<EnqueuedTarget> nodes, List<WorkUnit> newUnitsOfWork, int maxUnitsOfWork) {
     for (EnqueuedTarget node : nodes) {
       if (newUnitsOfWork.size() == maxUnitsOfWork) {
         return;
@@ -223,8 +296,9 @@ public class BuildTargetsQueue {
 
       LOG.debug(
           String.format(
-              "Node [%s] is zero dependency. Starting unit of work from here",
-              node.getBuildTarget()));
+              "Node [%s] is zero dependency with a critical path of [%s] ms. "
+                  + "Starting unit of work from here",
+              node.getBuildTarget(), node.criticalPathWallMillis));
 
       newUnitsOfWork.add(getUnitOfWorkStartingAtLeafNode(node));
     }
@@ -283,7 +357,9 @@ public class BuildTargetsQueue {
     private final ImmutableList<String> dependentTargets;
     private final Set<String> allDependencies;
     private final Set<String> dependenciesRemaining;
+    private final long estimatedWallMillis;
     private int unsatisfiedDependencies;
+    private long criticalPathWallMillis = -1;
 
     private boolean partOfBuildingUnitOfWork = false;
 
@@ -291,8 +367,10 @@ public class BuildTargetsQueue {
         String buildTarget,
         ImmutableList<String> dependentTargets,
         int numberOfDependencies,
-        ImmutableSet<String> dependenciesRemaining) {
+        ImmutableSet<String> dependenciesRemaining,
+        long estimatedWallMillis) {
       this.buildTarget = buildTarget;
+      this.estimatedWallMillis = estimatedWallMillis;
       this.dependentTargets = dependentTargets;
       this.unsatisfiedDependencies = numberOfDependencies;
       this.dependenciesRemaining = new HashSet<>(dependenciesRemaining);
@@ -342,6 +420,8 @@ public class BuildTargetsQueue {
           + unsatisfiedDependencies
           + ", dependentTargets="
           + dependentTargets
+          + ", criticalPathWallMillis="
+          + criticalPathWallMillis
           + '}';
     }
   }
@@ -25,6 +25,7 @@ import com.facebook.buck.parser.DefaultParserTargetNodeFactory;
 import com.facebook.buck.parser.ParserTargetNodeFactory;
 import com.facebook.buck.parser.exceptions.BuildFileParseException;
 import com.facebook.buck.rules.ActionGraphAndResolver;
+import com.facebook.buck.rules.BuildRuleDurationEstimator;
 import com.facebook.buck.rules.CachingBuildEngineDelegate;
 import com.facebook.buck.rules.Cell;
 import com.facebook.buck.rules.DefaultSourcePathResolver;
@@ -135,12 +136,17 @@ public class DistBuildSlaveExecutor {
 
   private CoordinatorModeRunner newCoordinatorMode(
       int coordinatorPort, boolean isLocalMinionAlsoRunning) {
+    // The root cell was only just materialized, so the client's history is the only one there is.
     BuildTargetsQueue queue =
         BuildTargetsQueue.newQueue(
             Preconditions.checkNotNull(actionGraphAndResolver).getResolver(),
             DistBuildUtil.fullyQualifiedNameToBuildTarget(
                 args.getState().getRootCell().getCellPathResolver(),
-                args.getState().getRemoteState().getTopLevelTargets()));
+                args.getState().getRemoteState().getTopLevelTargets()),
+            new BuildRuleDurationEstimator(
+                args.getState()
+                    .getBuildRuleDurationHistory(
+                        actionGraphAndResolver.getActionGraph().getNodes())));
     Optional<String> minionQueue = args.getDistBuildConfig().getMinionQueue();
     Preconditions.checkArgument(
         minionQueue.isPresent(),
@@ -25,6 +25,8 @@ import com.facebook.buck.distributed.thrift.OrderedStringMapEntry;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.ProjectFilesystemFactory;
 import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.BuildRuleDurationHistory;
 import com.facebook.buck.rules.Cell;
 import com.facebook.buck.rules.CellProvider;
 import com.facebook.buck.rules.DefaultCellPathResolver;
@@ -47,6 +49,7 @@ import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -94,6 +97,21 @@ public class DistBuildState {
     return jobState;
   }
 
+  /**
+   * Adds how long the given rules took to build in previous builds of the client to the state, so
+   * that the slaves can estimate their durations without having built them before.
+   */
+  public static void dumpBuildRuleDurations(
+      BuildJobState jobState, Iterable<BuildRule> rules, BuildRuleDurationHistory history) {
+    for (BuildRule rule : rules) {
+      String fullyQualifiedName = rule.getFullyQualifiedName();
+      history
+          .getWallMillis(fullyQualifiedName)
+          .ifPresent(
+              wallMillis -> jobState.putToBuildRuleWallMillis(fullyQualifiedName, wallMillis));
+    }
+  }
+
   public static DistBuildState load(
       BuckConfig localBuckConfig, // e.g. the slave's .buckconfig
       BuildJobState jobState,
@@ -145,6 +163,23 @@ public class DistBuildState {
     return new DistBuildState(jobState, cells);
   }
 
+  /** @return the durations of the given rules in previous builds of the client. */
+  public BuildRuleDurationHistory getBuildRuleDurationHistory(Iterable<BuildRule> rules) {
+    if (!remoteState.isSetBuildRuleWallMillis()) {
+      return BuildRuleDurationHistory.empty();
+    }
+    Map<String, BuildRuleDurationHistory.Entry> durations = new HashMap<>();
+    for (BuildRule rule : rules) {
+      Long wallMillis = remoteState.getBuildRuleWallMillis().get(rule.getFullyQualifiedName());
+      if (wallMillis != null) {
+        durations.put(
+            rule.getFullyQualifiedName(),
+            new BuildRuleDurationHistory.Entry(rule.getType(), wallMillis));
+      }
+    }
+    return BuildRuleDurationHistory.of(durations);
+  }
+
   public BuildJobState getRemoteState() {
     return remoteState;
   }
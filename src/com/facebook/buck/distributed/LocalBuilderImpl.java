@@ -124,7 +124,7 @@ public class LocalBuilderImpl implements LocalBuilder {
         engineConfig.getBuildArtifactCacheSizeLimit(),
         Preconditions.checkNotNull(actionGraphAndResolver).getResolver(),
         args.getBuildInfoStoreManager(),
-        engineConfig.getResourceAwareSchedulingInfo(),
+        engineConfig.getResourceAwareSchedulingInfo(args.getRootCell().getFilesystem()),
         engineConfig.getConsoleLogBuildRuleFailuresInline(),
         RuleKeyFactories.of(
             distBuildConfig.getKeySeed(),
@@ -132,7 +132,12 @@ public class LocalBuilderImpl implements LocalBuilder {
             actionGraphAndResolver.getResolver(),
             engineConfig.getBuildInputRuleKeyFileSizeLimit(),
             new DefaultRuleKeyCache<>()),
-        distBuildConfig.getFileHashCacheMode());
+        distBuildConfig.getFileHashCacheMode(),
+        engineConfig.getCriticalPathDurationEstimator(
+            () ->
+                args.getState()
+                    .getBuildRuleDurationHistory(
+                        actionGraphAndResolver.getActionGraph().getNodes())));
   }
 
   private ExecutionContext createExecutionContext() {
@@ -39,7 +39,10 @@ public class MinionWorkloadAllocator {
     return nodesAssignedToMinions.size() == 0 && !queue.hasReadyZeroDependencyNodes();
   }
 
-  /** Returns nodes that have all their dependencies satisfied. */
+  /**
+   * Returns nodes that have all their dependencies satisfied, in the order of priority chosen by
+   * the {@link BuildTargetsQueue}.
+   */
   public List<WorkUnit> dequeueZeroDependencyNodes(
       String minionId, List<String> finishedNodes, int maxWorkUnits) {
     nodesAssignedToMinions.removeAll(finishedNodes);
@@ -86,4 +86,6 @@ struct BuildJobState {
   2: optional list<BuildJobStateFileHashes> fileHashes;
   3: optional BuildJobStateTargetGraph targetGraph;
   4: optional list<string> topLevelTargets;
+  // How long the rules took to build on the client in previous builds, by fully qualified name.
+  5: optional map<string, i64> buildRuleWallMillis;
 }
@@ -133,7 +133,9 @@ public class BuildLogHelper {
         projectFilesystem
             .getFilesUnderPath(logFile.getParent())
             .stream()
-            .filter(input -> input.toString().endsWith(".trace"))
+            .filter(
+                input ->
+                    input.toString().endsWith(".trace") || input.toString().endsWith(".btrace"))
             .findFirst();
 
     return builder
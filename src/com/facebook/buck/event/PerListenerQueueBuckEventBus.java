@@ -0,0 +1,353 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.event;
+
+import com.facebook.buck.log.CommandThreadFactory;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuildId;
+import com.facebook.buck.timing.Clock;
+import com.facebook.buck.util.Threads;
+import com.facebook.buck.util.concurrent.BoundedRingBuffer;
+import com.facebook.buck.util.concurrent.MostExecutors;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.eventbus.DeadEvent;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.reflect.TypeToken;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link BuckEventBus} which gives every registered listener its own bounded queue of events.
+ *
+ * <p>Posting an event never takes a lock or blocks: the event is added to the lock-free queue of
+ * every listener which subscribes to it, and the listener is scheduled on a shared pool of
+ * dispatch threads if it isn't already. Each listener still receives its events one at a time and
+ * in the order they were posted, but a slow listener only delays its own events. When the queue of
+ * a listener is full, new events for that listener are dropped and counted rather than stalling
+ * the thread which posts them.
+ */
+public class PerListenerQueueBuckEventBus implements BuckEventBus {
+
+  private static final Logger LOG = Logger.get(PerListenerQueueBuckEventBus.class);
+
+  public static final int DEFAULT_QUEUE_CAPACITY = 1 << 16;
+  public static final int DEFAULT_DISPATCH_THREADS = 4;
+
+  // Delivering at most this many events per turn keeps one busy listener from hogging a thread.
+  private static final int MAX_EVENTS_PER_TURN = 1024;
+
+  private final Clock clock;
+  private final BuildId buildId;
+  private final int queueCapacity;
+  private final int shutdownTimeoutMillis;
+  private final ExecutorService dispatchExecutor;
+  private final List<ListenerQueue> listenerQueues = new CopyOnWriteArrayList<>();
+  private final Object idleLock = new Object();
+
+  public PerListenerQueueBuckEventBus(Clock clock, BuildId buildId, int queueCapacity) {
+    this(
+        clock,
+        buildId,
+        queueCapacity,
+        DEFAULT_DISPATCH_THREADS,
+        DefaultBuckEventBus.DEFAULT_SHUTDOWN_TIMEOUT_MS);
+  }
+
+  @VisibleForTesting
+  PerListenerQueueBuckEventBus(
+      Clock clock,
+      BuildId buildId,
+      int queueCapacity,
+      int dispatchThreads,
+      int shutdownTimeoutMillis) {
+    this.clock = clock;
+    this.buildId = buildId;
+    this.queueCapacity = queueCapacity;
+    this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    this.dispatchExecutor =
+        MostExecutors.newMultiThreadExecutor(
+            new CommandThreadFactory(BuckEventBus.class.getSimpleName()), dispatchThreads);
+  }
+
+  private void dispatch(BuckEvent event) {
+    for (ListenerQueue listenerQueue : listenerQueues) {
+      listenerQueue.offer(event);
+    }
+  }
+
+  @Override
+  public void post(BuckEvent event) {
+    timestamp(event);
+    dispatch(event);
+  }
+
+  /** Post event to the listeners using the timestamp given by atTime. */
+  @Override
+  public void post(BuckEvent event, BuckEvent atTime) {
+    event.configure(
+        atTime.getTimestamp(),
+        atTime.getNanoTime(),
+        atTime.getThreadUserNanoTime(),
+        Thread.currentThread().getId(),
+        buildId);
+    dispatch(event);
+  }
+
+  @Override
+  public void postWithoutConfiguring(BuckEvent event) {
+    Preconditions.checkState(event.isConfigured());
+    dispatch(event);
+  }
+
+  @Override
+  public void timestamp(BuckEvent event) {
+    long threadId = Thread.currentThread().getId();
+    event.configure(
+        clock.currentTimeMillis(),
+        clock.nanoTime(),
+        clock.threadUserNanoTime(threadId),
+        threadId,
+        buildId);
+  }
+
+  @Override
+  public void register(Object object) {
+    listenerQueues.add(new ListenerQueue(object));
+  }
+
+  @Override
+  public BuildId getBuildId() {
+    return buildId;
+  }
+
+  /** @return the number of events which were dropped because a listener's queue was full. */
+  public long getDroppedEventCount() {
+    long dropped = 0;
+    for (ListenerQueue listenerQueue : listenerQueues) {
+      dropped += listenerQueue.dropped.sum();
+    }
+    return dropped;
+  }
+
+  /** @return the number of events which were posted but not yet delivered to their listener. */
+  public long getBacklogEventCount() {
+    long backlog = 0;
+    for (ListenerQueue listenerQueue : listenerQueues) {
+      backlog += listenerQueue.events.size();
+    }
+    return backlog;
+  }
+
+  public ImmutableList<ListenerStats> getListenerStats() {
+    ImmutableList.Builder<ListenerStats> stats = ImmutableList.builder();
+    for (ListenerQueue listenerQueue : listenerQueues) {
+      stats.add(listenerQueue.getStats());
+    }
+    return stats.build();
+  }
+
+  /**
+   * Waits for the queued events to be delivered to their listeners, for at most the shutdown
+   * timeout, so that listeners can record or report as much information as possible.
+   */
+  @Override
+  public void close() throws IOException {
+    long timeoutTime = System.currentTimeMillis() + shutdownTimeoutMillis;
+    synchronized (idleLock) {
+      while (!isIdle()) {
+        long waitTime = timeoutTime - System.currentTimeMillis();
+        if (waitTime <= 0) {
+          break;
+        }
+        try {
+          idleLock.wait(waitTime);
+        } catch (InterruptedException e) {
+          Threads.interruptCurrentThread();
+          break;
+        }
+      }
+    }
+
+    dispatchExecutor.shutdown();
+    try {
+      long waitTime = Math.max(0, timeoutTime - System.currentTimeMillis());
+      if (!dispatchExecutor.awaitTermination(waitTime, TimeUnit.MILLISECONDS)) {
+        LOG.warn(
+            "The BuckEventBus failed to shut down within the standard timeout, %d events were "
+                + "not delivered.",
+            getBacklogEventCount());
+        dispatchExecutor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Threads.interruptCurrentThread();
+    }
+
+    for (ListenerStats stats : getListenerStats()) {
+      if (stats.getDroppedEvents() > 0) {
+        LOG.warn(
+            "%s was too slow to keep up and missed %d of its events.",
+            stats.getListenerName(), stats.getDroppedEvents());
+      }
+    }
+  }
+
+  private boolean isIdle() {
+    for (ListenerQueue listenerQueue : listenerQueues) {
+      if (listenerQueue.scheduled.get() || !listenerQueue.events.isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Counters describing how well a single listener keeps up with the events posted to it. */
+  public static class ListenerStats {
+    private final String listenerName;
+    private final long deliveredEvents;
+    private final long droppedEvents;
+    private final int backlogEvents;
+
+    private ListenerStats(
+        String listenerName, long deliveredEvents, long droppedEvents, int backlogEvents) {
+      this.listenerName = listenerName;
+      this.deliveredEvents = deliveredEvents;
+      this.droppedEvents = droppedEvents;
+      this.backlogEvents = backlogEvents;
+    }
+
+    public String getListenerName() {
+      return listenerName;
+    }
+
+    public long getDeliveredEvents() {
+      return deliveredEvents;
+    }
+
+    public long getDroppedEvents() {
+      return droppedEvents;
+    }
+
+    public int getBacklogEvents() {
+      return backlogEvents;
+    }
+  }
+
+  /** The queue of events of a single listener, and the state of their delivery. */
+  private class ListenerQueue {
+    private final Object listener;
+    private final EventBus eventBus;
+    private final ImmutableSet<Class<?>> subscribedTypes;
+    private final ConcurrentMap<Class<?>, Boolean> subscribesTo = new ConcurrentHashMap<>();
+    private final BoundedRingBuffer<BuckEvent> events = new BoundedRingBuffer<>(queueCapacity);
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private ListenerQueue(Object listener) {
+      this.listener = listener;
+      this.eventBus = new EventBus("buck-build-events");
+      this.eventBus.register(listener);
+      this.subscribedTypes = findSubscribedTypes(listener.getClass());
+    }
+
+    private void offer(BuckEvent event) {
+      if (!subscribesTo.computeIfAbsent(event.getClass(), this::isSubscribedTo)) {
+        return;
+      }
+      if (!events.offer(event)) {
+        dropped.increment();
+        return;
+      }
+      schedule();
+    }
+
+    private boolean isSubscribedTo(Class<?> eventType) {
+      for (Class<?> subscribedType : subscribedTypes) {
+        if (subscribedType.isAssignableFrom(eventType)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private void schedule() {
+      if (scheduled.compareAndSet(false, true)) {
+        try {
+          dispatchExecutor.execute(this::deliver);
+        } catch (RejectedExecutionException e) {
+          // The bus is closed, so the events can no longer be delivered.
+          scheduled.set(false);
+        }
+      }
+    }
+
+    private void deliver() {
+      for (int i = 0; i < MAX_EVENTS_PER_TURN; i++) {
+        BuckEvent event = events.poll();
+        if (event == null) {
+          break;
+        }
+        eventBus.post(event);
+        delivered.increment();
+      }
+
+      scheduled.set(false);
+      // Events posted while the flag was set didn't schedule this listener, so check for them.
+      if (!events.isEmpty()) {
+        schedule();
+        return;
+      }
+      synchronized (idleLock) {
+        idleLock.notifyAll();
+      }
+    }
+
+    private ListenerStats getStats() {
+      return new ListenerStats(
+          listener.getClass().getName(), delivered.sum(), dropped.sum(), events.size());
+    }
+  }
+
+  private static ImmutableSet<Class<?>> findSubscribedTypes(Class<?> listenerClass) {
+    ImmutableSet.Builder<Class<?>> types = ImmutableSet.builder();
+    for (Class<?> type : TypeToken.of(listenerClass).getTypes().rawTypes()) {
+      for (Method method : type.getDeclaredMethods()) {
+        if (method.isAnnotationPresent(Subscribe.class)
+            && !method.isSynthetic()
+            && method.getParameterCount() == 1) {
+          Class<?> parameterType = method.getParameterTypes()[0];
+          // Listeners of dead events want to hear about anything nobody else handles.
+          types.add(parameterType.equals(DeadEvent.class) ? Object.class : parameterType);
+        }
+      }
+    }
+    return types.build();
+  }
+}
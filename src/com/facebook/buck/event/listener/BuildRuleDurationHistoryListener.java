@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.event.BuckEventListener;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuildId;
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.BuildRuleDurationHistory;
+import com.facebook.buck.rules.BuildRuleEvent;
+import com.facebook.buck.rules.BuildRuleSuccessType;
+import com.google.common.eventbus.Subscribe;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records how long the rules built locally took to build into the {@link BuildRuleDurationHistory}
+ * of the project, so that later builds can schedule long rules first.
+ */
+public class BuildRuleDurationHistoryListener implements BuckEventListener {
+  private static final Logger LOG = Logger.get(BuildRuleDurationHistoryListener.class);
+
+  private final ProjectFilesystem projectFilesystem;
+  private final ConcurrentMap<String, BuildRuleDurationHistory.Entry> durations =
+      new ConcurrentHashMap<>();
+
+  public BuildRuleDurationHistoryListener(ProjectFilesystem projectFilesystem) {
+    this.projectFilesystem = projectFilesystem;
+  }
+
+  @Subscribe
+  public void buildRuleFinished(BuildRuleEvent.Finished finished) {
+    // Cache hits and other shortcuts say nothing about how long building the rule takes.
+    if (finished.getSuccessType().equals(Optional.of(BuildRuleSuccessType.BUILT_LOCALLY))) {
+      BuildRule rule = finished.getBuildRule();
+      durations.put(
+          rule.getFullyQualifiedName(),
+          new BuildRuleDurationHistory.Entry(
+              rule.getType(), finished.getDuration().getWallMillisDuration()));
+    }
+  }
+
+  @Override
+  public void outputTrace(BuildId buildId) throws InterruptedException {
+    if (durations.isEmpty()) {
+      return;
+    }
+    try {
+      BuildRuleDurationHistory.update(projectFilesystem, durations);
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to record the durations of %d rules.", durations.size());
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.event.BuckEventListener;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuildId;
+import com.facebook.buck.rules.BuildRuleResourceHistory;
+import com.facebook.buck.rules.CachingBuildEngine;
+import com.facebook.buck.util.ProcessResourceConsumption;
+import com.facebook.buck.util.perf.ProcessTracker;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.eventbus.Subscribe;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records the resources used by the processes the build rules launched into the {@link
+ * BuildRuleResourceHistory} of the project, so that later builds can schedule rules with the
+ * resource amounts they actually need.
+ */
+public class BuildRuleResourceHistoryListener implements BuckEventListener {
+  private static final Logger LOG = Logger.get(BuildRuleResourceHistoryListener.class);
+
+  private final ProjectFilesystem projectFilesystem;
+  private final ConcurrentMap<String, BuildRuleResourceHistory.Entry> measurements =
+      new ConcurrentHashMap<>();
+
+  public BuildRuleResourceHistoryListener(ProjectFilesystem projectFilesystem) {
+    this.projectFilesystem = projectFilesystem;
+  }
+
+  @Subscribe
+  public void processResourceConsumption(ProcessTracker.ProcessResourceConsumptionEvent event) {
+    if (!event.getContext().isPresent() || !event.getResourceConsumption().isPresent()) {
+      return;
+    }
+    // Only processes launched by the steps of build rules carry the rule in their context.
+    ImmutableMap<String, String> context = event.getContext().get();
+    String target = context.get(CachingBuildEngine.BUILD_TARGET_CONTEXT_KEY);
+    String type = context.get(CachingBuildEngine.BUILD_RULE_TYPE_CONTEXT_KEY);
+    if (target == null || type == null) {
+      return;
+    }
+    ProcessResourceConsumption consumption = event.getResourceConsumption().get();
+    measurements.merge(
+        target,
+        new BuildRuleResourceHistory.Entry(
+            type,
+            consumption.getCpuTotal(),
+            consumption.getCpuReal(),
+            consumption.getMemResident(),
+            consumption.getIoTotal()),
+        BuildRuleResourceHistory.Entry::combine);
+  }
+
+  @Override
+  public void outputTrace(BuildId buildId) throws InterruptedException {
+    if (measurements.isEmpty()) {
+      return;
+    }
+    try {
+      BuildRuleResourceHistory.update(projectFilesystem, measurements);
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to record the resources used by %d rules.", measurements.size());
+    }
+  }
+}
@@ -70,8 +70,10 @@ public class CacheRateStatsKeeper {
         cacheIgnores.incrementAndGet();
         break;
       case SKIPPED:
+      case CONTAINS:
         throw new IllegalStateException(
-            "BuildRules shouldn't finish with SKIPPED cache result type.");
+            String.format(
+                "BuildRules shouldn't finish with %s cache result type.", cacheResult.getType()));
       case LOCAL_KEY_UNCHANGED_HIT:
         cacheLocalKeyUnchangedHits.incrementAndGet();
         break;
@@ -26,6 +26,15 @@ import java.net.URI;
 import java.util.Optional;
 
 public class ChromeTraceBuckConfig implements ConfigView<BuckConfig> {
+
+  /** The format traces are written in. */
+  public enum TraceFormat {
+    /** The JSON array format, which Chrome can load as it is. */
+    JSON,
+    /** A {@link com.facebook.buck.util.trace.BinaryTrace}, which is much cheaper to write. */
+    BINARY,
+  }
+
   private static final String DEFAULT_MAX_TRACES = "25";
 
   private static final String LOG_SECTION = "log";
@@ -54,6 +63,17 @@ public class ChromeTraceBuckConfig implements ConfigView<BuckConfig> {
     return delegate.getBooleanValue(LOG_SECTION, "compress_traces", false);
   }
 
+  public TraceFormat getTraceFormat() {
+    return delegate
+        .getEnum(LOG_SECTION, "trace_format", TraceFormat.class)
+        .orElse(TraceFormat.JSON);
+  }
+
+  /** @return whether binary traces are converted to JSON before they are uploaded. */
+  public boolean getConvertBinaryTracesForUpload() {
+    return delegate.getBooleanValue(LOG_SECTION, "convert_binary_traces_for_upload", false);
+  }
+
   public Optional<URI> getTraceUploadUri() {
     if (!getShouldUploadBuildTraces()) {
       return Optional.empty();
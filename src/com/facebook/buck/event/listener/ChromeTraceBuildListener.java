@@ -61,15 +61,19 @@ import com.facebook.buck.util.concurrent.MostExecutors;
 import com.facebook.buck.util.env.BuckClasspath;
 import com.facebook.buck.util.perf.PerfStatsTracking;
 import com.facebook.buck.util.perf.ProcessTracker;
+import com.facebook.buck.util.trace.BinaryTrace;
+import com.facebook.buck.util.trace.BinaryTraceWriter;
 import com.facebook.buck.util.unit.SizeUnit;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.CaseFormat;
 import com.google.common.base.Joiner;
+import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import com.google.common.eventbus.Subscribe;
@@ -92,8 +96,12 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 
-/** Logs events to a json file formatted to be viewed in Chrome Trace View (chrome://tracing). */
+/**
+ * Logs events to a json file formatted to be viewed in Chrome Trace View (chrome://tracing), or to
+ * a {@link BinaryTrace} which can be converted to one.
+ */
 public class ChromeTraceBuildListener implements BuckEventListener {
 
   private static final LoadingCache<String, String> CONVERTED_EVENT_ID_CACHE =
@@ -118,7 +126,9 @@ public class ChromeTraceBuildListener implements BuckEventListener {
   private final ThreadLocal<SimpleDateFormat> dateFormat;
   private final Path tracePath;
   private final OutputStream traceStream;
-  private final JsonGenerator jsonGenerator;
+  // Only one of these is set, depending on the format of the trace.
+  @Nullable private final JsonGenerator jsonGenerator;
+  @Nullable private final BinaryTraceWriter binaryTraceWriter;
   private final Path logDirectoryPath;
   private final ChromeTraceBuckConfig config;
   private final Set<Long> threadNamesRecorded = new HashSet<>();
@@ -171,9 +181,17 @@ public class ChromeTraceBuildListener implements BuckEventListener {
     TracePathAndStream tracePathAndStream = createPathAndStream(invocationInfo.getBuildId());
     this.tracePath = tracePathAndStream.getPath();
     this.traceStream = tracePathAndStream.getStream();
-    this.jsonGenerator = ObjectMappers.createGenerator(this.traceStream);
+    if (config.getTraceFormat() == ChromeTraceBuckConfig.TraceFormat.BINARY) {
+      this.jsonGenerator = null;
+      this.binaryTraceWriter =
+          new BinaryTraceWriter(this.traceStream, new CommandThreadFactory(getClass().getName()));
+    } else {
+      this.binaryTraceWriter = null;
+      JsonGenerator generator = ObjectMappers.createGenerator(this.traceStream);
+      generator.writeStartArray();
+      this.jsonGenerator = generator;
+    }
 
-    this.jsonGenerator.writeStartArray();
     addProcessMetadataEvent(invocationInfo);
     addProjectFilesystemDelegateMetadataEvent(projectFilesystem);
   }
@@ -219,7 +237,7 @@ public class ChromeTraceBuildListener implements BuckEventListener {
       for (Path path :
           PathListing.listMatchingPathsWithFilters(
               traceDirectory,
-              "build.*.trace",
+              "build.*.{trace,btrace}",
               PathListing.GET_PATH_MODIFIED_TIME,
               PathListing.FilterMode.EXCLUDE,
               Optional.of(config.getMaxTraces()),
@@ -233,15 +251,19 @@ public class ChromeTraceBuildListener implements BuckEventListener {
 
   private TracePathAndStream createPathAndStream(BuildId buildId) {
     String filenameTime = dateFormat.get().format(new Date(clock.currentTimeMillis()));
-    String traceName = String.format("build.%s.%s.trace", filenameTime, buildId);
-    if (config.getCompressTraces()) {
+    boolean binary = config.getTraceFormat() == ChromeTraceBuckConfig.TraceFormat.BINARY;
+    String traceName =
+        String.format("build.%s.%s.%s", filenameTime, buildId, binary ? "btrace" : "trace");
+    // Binary traces are always compressed.
+    boolean gzip = !binary && config.getCompressTraces();
+    if (gzip) {
       traceName = traceName + ".gz";
     }
     Path tracePath = logDirectoryPath.resolve(traceName);
     try {
       projectFilesystem.createParentDirs(tracePath);
       OutputStream stream = projectFilesystem.newFileOutputStream(tracePath);
-      if (config.getCompressTraces()) {
+      if (gzip) {
         stream = new BestCompressionGZIPOutputStream(stream, true);
       }
       return new TracePathAndStream(tracePath, stream);
@@ -263,12 +285,18 @@ public class ChromeTraceBuildListener implements BuckEventListener {
         Threads.interruptCurrentThread();
       }
 
-      jsonGenerator.writeEndArray();
-      jsonGenerator.close();
-      traceStream.close();
+      String symlinkName;
+      if (binaryTraceWriter != null) {
+        binaryTraceWriter.close();
+        symlinkName = "build.btrace";
+      } else {
+        Preconditions.checkNotNull(jsonGenerator).writeEndArray();
+        jsonGenerator.close();
+        traceStream.close();
+        symlinkName = config.getCompressTraces() ? "build.trace.gz" : "build.trace";
+      }
       uploadTraceIfConfigured(buildId);
 
-      String symlinkName = config.getCompressTraces() ? "build.trace.gz" : "build.trace";
       Path symlinkPath = projectFilesystem.getBuckPaths().getLogDir().resolve(symlinkName);
       projectFilesystem.createSymLink(
           projectFilesystem.resolve(symlinkPath), projectFilesystem.resolve(tracePath), true);
@@ -922,6 +950,19 @@ public class ChromeTraceBuildListener implements BuckEventListener {
 
   @SuppressWarnings("PMD.EmptyCatchBlock")
   private void submitTraceEvent(final ChromeTraceEvent chromeTraceEvent) {
+    if (binaryTraceWriter != null) {
+      // The binary writer queues events without locking and writes them on its own thread.
+      binaryTraceWriter.write(
+          chromeTraceEvent.getCategory(),
+          chromeTraceEvent.getName(),
+          chromeTraceEvent.getPhase().getPhase().charAt(0),
+          chromeTraceEvent.getProcessId(),
+          chromeTraceEvent.getThreadId(),
+          chromeTraceEvent.getMicroTime(),
+          chromeTraceEvent.getMicroThreadUserTime(),
+          chromeTraceEvent.getArgs());
+      return;
+    }
     @SuppressWarnings("unused")
     Future<?> unused =
         outputExecutor.submit(
@@ -953,22 +994,25 @@ public class ChromeTraceBuildListener implements BuckEventListener {
     LOG.debug("Uploading build trace in the background. Upload will log to %s", logFile);
 
     try {
-      String[] args = {
-        "java",
-        "-cp",
-        buckClasspath,
-        "com.facebook.buck.util.trace.uploader.Main",
-        "--buildId",
-        buildId.toString(),
-        "--traceFilePath",
-        fullPath.toString(),
-        "--baseUrl",
-        traceUploadUri.get().toString(),
-        "--log",
-        logFile.toString()
-      };
-
-      Runtime.getRuntime().exec(args);
+      ImmutableList.Builder<String> args = ImmutableList.builder();
+      args.add(
+          "java",
+          "-cp",
+          buckClasspath,
+          "com.facebook.buck.util.trace.uploader.Main",
+          "--buildId",
+          buildId.toString(),
+          "--traceFilePath",
+          fullPath.toString(),
+          "--baseUrl",
+          traceUploadUri.get().toString(),
+          "--log",
+          logFile.toString());
+      if (config.getConvertBinaryTracesForUpload()) {
+        args.add("--convertBinaryTraceToJson");
+      }
+
+      Runtime.getRuntime().exec(args.build().toArray(new String[0]));
     } catch (IOException e) {
       LOG.error(e, e.getMessage());
     }
@@ -19,34 +19,65 @@ package com.facebook.buck.httpserver;
 import com.facebook.buck.artifact_cache.ArtifactCache;
 import com.facebook.buck.artifact_cache.ArtifactInfo;
 import com.facebook.buck.artifact_cache.CacheResult;
+import com.facebook.buck.artifact_cache.CacheResultType;
 import com.facebook.buck.artifact_cache.HttpArtifactCacheBinaryProtocol;
+import com.facebook.buck.artifact_cache.LocalArtifactFile;
+import com.facebook.buck.artifact_cache.LocalArtifactFileCache;
 import com.facebook.buck.artifact_cache.StoreResponseReadResult;
 import com.facebook.buck.io.file.BorrowablePath;
 import com.facebook.buck.io.file.LazyPath;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.log.Logger;
 import com.facebook.buck.rules.RuleKey;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
 import com.google.common.io.ByteSource;
 import com.google.common.util.concurrent.Futures;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.Semaphore;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.server.InclusiveByteRange;
 import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.handler.AbstractHandler;
 
-/** Implements a really simple cache server on top of the local dircache. */
+/**
+ * Implements a really simple cache server on top of the local dircache.
+ *
+ * <p>Artifacts of caches which keep them in files of their own are sent straight from a memory
+ * mapping of their file, without copying them out of the cache first. Their checksums are
+ * remembered, so that a popular artifact is only read once. Such responses also support requests
+ * for a single range of bytes, so that clients can resume interrupted downloads.
+ */
 public class ArtifactCacheHandler extends AbstractHandler {
   private static final Logger LOG = Logger.get(ArtifactCacheHandler.class);
 
+  private static final int MAX_CACHED_PAYLOAD_CHECKSUMS = 10000;
+
   private final ProjectFilesystem projectFilesystem;
+  private final Cache<Path, PayloadChecksum> payloadChecksums =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_PAYLOAD_CHECKSUMS).build();
   private Optional<ArtifactCache> artifactCache;
+  private volatile OptionalInt maxConcurrentRequests = OptionalInt.empty();
+  private volatile Optional<Semaphore> requestPermits = Optional.empty();
 
   public ArtifactCacheHandler(ProjectFilesystem projectFilesystem) {
     this.artifactCache = Optional.empty();
@@ -57,15 +88,49 @@ public class ArtifactCacheHandler extends AbstractHandler {
     this.artifactCache = artifactCache;
   }
 
+  /**
+   * Limits the number of requests which are handled at the same time. Requests beyond the limit
+   * are answered with {@link HttpServletResponse#SC_SERVICE_UNAVAILABLE} right away.
+   */
+  public synchronized void setMaxConcurrentRequests(OptionalInt maxConcurrentRequests) {
+    if (!maxConcurrentRequests.equals(this.maxConcurrentRequests)) {
+      this.maxConcurrentRequests = maxConcurrentRequests;
+      this.requestPermits =
+          maxConcurrentRequests.isPresent()
+              ? Optional.of(new Semaphore(maxConcurrentRequests.getAsInt()))
+              : Optional.empty();
+    }
+  }
+
   @Override
   public void handle(
       String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response)
       throws IOException, ServletException {
+    // Requests which are in flight when the limit changes give their permit back to the old one.
+    Optional<Semaphore> permits = requestPermits;
+    if (permits.isPresent() && !permits.get().tryAcquire()) {
+      response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+      response.getWriter().write("Too many concurrent requests.");
+      response.flushBuffer();
+      baseRequest.setHandled(true);
+      return;
+    }
+    try {
+      handleWithPermit(target, baseRequest, response);
+    } finally {
+      permits.ifPresent(Semaphore::release);
+    }
+  }
+
+  private void handleWithPermit(
+      String target, Request baseRequest, HttpServletResponse response) throws IOException {
     try {
       int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
       String method = baseRequest.getMethod();
       if (method.equals("GET")) {
         status = handleGet(baseRequest, response);
+      } else if (method.equals("HEAD")) {
+        status = handleHead(baseRequest, response);
       } else if (method.equals("PUT")) {
         status = handlePut(baseRequest, response);
       }
@@ -80,6 +145,48 @@ public class ArtifactCacheHandler extends AbstractHandler {
     }
   }
 
+  private int handleHead(Request baseRequest, HttpServletResponse response) throws IOException {
+    if (!artifactCache.isPresent()) {
+      response.getWriter().write("Serving local cache is disabled for this instance.");
+      return HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+    }
+
+    String path = baseRequest.getUri().getPath();
+    String[] pathElements = path.split("/");
+    if (pathElements.length != 4 || !pathElements[2].equals("key")) {
+      response.getWriter().write("Incorrect url format.");
+      return HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+    }
+
+    RuleKey ruleKey = new RuleKey(pathElements[3]);
+    CacheResult containsResult =
+        Futures.getUnchecked(artifactCache.get().containsAsync(ImmutableSet.of(ruleKey)))
+            .get(ruleKey);
+    if (containsResult.getType() == CacheResultType.SKIPPED) {
+      // The cache can't tell without fetching the artifact.
+      return isFetchable(ruleKey) ? HttpServletResponse.SC_OK : HttpServletResponse.SC_NOT_FOUND;
+    }
+    if (containsResult.getType() != CacheResultType.CONTAINS) {
+      return HttpServletResponse.SC_NOT_FOUND;
+    }
+    return HttpServletResponse.SC_OK;
+  }
+
+  private boolean isFetchable(RuleKey ruleKey) throws IOException {
+    projectFilesystem.mkdirs(projectFilesystem.getBuckPaths().getScratchDir());
+    Path temp =
+        projectFilesystem.createTempFile(
+            projectFilesystem.getBuckPaths().getScratchDir(), "checked_rulekey", ".tmp");
+    try {
+      return Futures.getUnchecked(
+              artifactCache.get().fetchAsync(ruleKey, LazyPath.ofInstance(temp)))
+          .getType()
+          .isSuccess();
+    } finally {
+      projectFilesystem.deleteFileAtPathIfExists(temp);
+    }
+  }
+
   private int handleGet(Request baseRequest, HttpServletResponse response) throws IOException {
     if (!artifactCache.isPresent()) {
       response.getWriter().write("Serving local cache is disabled for this instance.");
@@ -95,6 +202,38 @@ public class ArtifactCacheHandler extends AbstractHandler {
 
     RuleKey ruleKey = new RuleKey(pathElements[3]);
 
+    if (artifactCache.get() instanceof LocalArtifactFileCache) {
+      LocalArtifactFile artifactFile =
+          ((LocalArtifactFileCache) artifactCache.get()).lookupArtifactFile(ruleKey);
+      CacheResult lookupResult = artifactFile.getCacheResult();
+      if (!lookupResult.getType().isSuccess()) {
+        return HttpServletResponse.SC_NOT_FOUND;
+      }
+      if (artifactFile.getPath().isPresent()) {
+        FileChannel channel;
+        try {
+          channel = FileChannel.open(artifactFile.getPath().get(), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+          // The artifact was evicted since it was looked up.
+          return HttpServletResponse.SC_NOT_FOUND;
+        }
+        try {
+          // Mappings are limited to 2GB, bigger artifacts are fetched below instead.
+          if (channel.size() <= Integer.MAX_VALUE) {
+            return serveArtifactFile(
+                ruleKey,
+                lookupResult.getMetadata(),
+                artifactFile.getPath().get(),
+                channel,
+                baseRequest,
+                response);
+          }
+        } finally {
+          channel.close();
+        }
+      }
+    }
+
     Path temp = null;
     try {
       projectFilesystem.mkdirs(projectFilesystem.getBuckPaths().getScratchDir());
@@ -128,6 +267,82 @@ public class ArtifactCacheHandler extends AbstractHandler {
     }
   }
 
+  private int serveArtifactFile(
+      RuleKey ruleKey,
+      ImmutableMap<String, String> metadata,
+      Path path,
+      FileChannel channel,
+      Request baseRequest,
+      HttpServletResponse response)
+      throws IOException {
+    // The mapping stays valid once the channel is closed.
+    ByteBuffer payload = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    HttpArtifactCacheBinaryProtocol.FetchResponse fetchResponse =
+        new HttpArtifactCacheBinaryProtocol.FetchResponse(
+            ImmutableSet.of(ruleKey),
+            metadata,
+            payload.remaining(),
+            getPayloadChecksum(path, payload));
+    byte[] header = fetchResponse.getResponseHeader();
+    long contentLength = fetchResponse.getContentLength();
+
+    int status = HttpServletResponse.SC_OK;
+    long first = 0;
+    long last = contentLength - 1;
+    if (baseRequest.getHeader(HttpHeader.RANGE.asString()) != null) {
+      List<InclusiveByteRange> ranges =
+          InclusiveByteRange.satisfiableRanges(
+              baseRequest.getHeaders(HttpHeader.RANGE.asString()), contentLength);
+      if (ranges == null || ranges.isEmpty()) {
+        response.setHeader(
+            HttpHeader.CONTENT_RANGE.asString(),
+            InclusiveByteRange.to416HeaderRangeString(contentLength));
+        return HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE;
+      }
+      // Requests for several ranges are answered with the whole response.
+      if (ranges.size() == 1) {
+        InclusiveByteRange range = ranges.get(0);
+        status = HttpServletResponse.SC_PARTIAL_CONTENT;
+        first = range.getFirst(contentLength);
+        last = range.getLast(contentLength);
+        response.setHeader(
+            HttpHeader.CONTENT_RANGE.asString(), range.toHeaderRangeString(contentLength));
+      }
+    }
+
+    response.setStatus(status);
+    response.setContentLengthLong(last - first + 1);
+    if (first < header.length) {
+      baseRequest
+          .getResponse()
+          .getHttpOutput()
+          .write(header, (int) first, (int) (Math.min(last + 1, header.length) - first));
+    }
+    long payloadFirst = Math.max(first - header.length, 0);
+    long payloadEnd = last + 1 - header.length;
+    if (payloadEnd > payloadFirst) {
+      payload.limit((int) payloadEnd);
+      payload.position((int) payloadFirst);
+      // Large buffers are written to the connection as they are, without being copied.
+      baseRequest.getResponse().getHttpOutput().write(payload);
+    }
+    return status;
+  }
+
+  private HashCode getPayloadChecksum(Path path, ByteBuffer payload) throws IOException {
+    FileTime lastModifiedTime = Files.getLastModifiedTime(path);
+    PayloadChecksum cached = payloadChecksums.getIfPresent(path);
+    if (cached != null
+        && cached.size == payload.remaining()
+        && cached.lastModifiedTime.equals(lastModifiedTime)) {
+      return cached.checksum;
+    }
+    HashCode checksum = HttpArtifactCacheBinaryProtocol.checksumPayload(payload.duplicate());
+    payloadChecksums.put(
+        path, new PayloadChecksum(payload.remaining(), lastModifiedTime, checksum));
+    return checksum;
+  }
+
   private int handlePut(Request baseRequest, HttpServletResponse response) throws IOException {
     if (!artifactCache.isPresent()) {
       response.getWriter().write("Serving local cache is disabled for this instance.");
@@ -169,4 +384,17 @@ public class ArtifactCacheHandler extends AbstractHandler {
       }
     }
   }
+
+  /** The checksum of an artifact file, which is valid as long as the file isn't replaced. */
+  private static class PayloadChecksum {
+    private final long size;
+    private final FileTime lastModifiedTime;
+    private final HashCode checksum;
+
+    private PayloadChecksum(long size, FileTime lastModifiedTime, HashCode checksum) {
+      this.size = size;
+      this.lastModifiedTime = lastModifiedTime;
+      this.checksum = checksum;
+    }
+  }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.httpserver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A small load test for the cache served by {@link ArtifactCacheHandler}. It fetches the same
+ * artifact over and over from a number of threads, and reports the throughput and latency of the
+ * requests which fetched the whole artifact. Failed requests, like the ones the handler rejects
+ * when it is overloaded, are counted separately so that quick rejections don't inflate the numbers.
+ *
+ * <p>Usage: {@code artifact-cache-load-test http://host:port/artifacts/key/<rule key> [threads
+ * [seconds]]}
+ */
+public class ArtifactCacheLoadTest {
+  private static final int DEFAULT_THREADS = 16;
+  private static final int DEFAULT_SECONDS = 10;
+
+  private ArtifactCacheLoadTest() {}
+
+  public static void main(String[] args) throws Exception {
+    if (args.length < 1 || args.length > 3) {
+      System.err.println(
+          "Usage: artifact-cache-load-test http://host:port/artifacts/key/<rule key> "
+              + "[threads [seconds]]");
+      System.exit(1);
+    }
+    URL url = new URL(args[0]);
+    int threads = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_THREADS;
+    long durationNanos =
+        TimeUnit.SECONDS.toNanos(args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_SECONDS);
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<Results>> futures = new ArrayList<>();
+    long start = System.nanoTime();
+    long deadline = start + durationNanos;
+    for (int i = 0; i < threads; i++) {
+      futures.add(executor.submit(() -> fetchUntil(url, deadline)));
+    }
+    List<Long> latencies = new ArrayList<>();
+    long bytes = 0;
+    SortedMap<String, Long> failures = new TreeMap<>();
+    for (Future<Results> future : futures) {
+      Results results = future.get();
+      latencies.addAll(results.latencyNanos);
+      bytes += results.bytes;
+      results.failures.forEach((reason, count) -> failures.merge(reason, count, Long::sum));
+    }
+    double seconds = (System.nanoTime() - start) / 1e9;
+    executor.shutdown();
+
+    Collections.sort(latencies);
+    System.out.printf(
+        "%d successful requests from %d threads in %.1fs%n", latencies.size(), threads, seconds);
+    failures.forEach((reason, count) -> System.out.printf("%d failed: %s%n", count, reason));
+    System.out.printf(
+        "%.1f requests/sec, %.1f MB/sec%n", latencies.size() / seconds, bytes / seconds / 1e6);
+    System.out.printf(
+        "latency p50 %.2fms, p99 %.2fms, max %.2fms%n",
+        percentileMillis(latencies, 0.5),
+        percentileMillis(latencies, 0.99),
+        percentileMillis(latencies, 1.0));
+  }
+
+  private static Results fetchUntil(URL url, long deadline) {
+    Results results = new Results();
+    byte[] buffer = new byte[64 * 1024];
+    while (System.nanoTime() < deadline) {
+      long requestStart = System.nanoTime();
+      try {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        int responseCode = connection.getResponseCode();
+        InputStream body =
+            responseCode < HttpURLConnection.HTTP_BAD_REQUEST
+                ? connection.getInputStream()
+                : connection.getErrorStream();
+        // Read failed responses too, so that the connection can be reused.
+        long bytes = 0;
+        if (body != null) {
+          try (InputStream input = body) {
+            for (int read = input.read(buffer); read != -1; read = input.read(buffer)) {
+              bytes += read;
+            }
+          }
+        }
+        long contentLength = connection.getContentLengthLong();
+        if (responseCode != HttpURLConnection.HTTP_OK) {
+          results.addFailure("HTTP " + responseCode);
+        } else if (contentLength >= 0 && bytes != contentLength) {
+          results.addFailure("truncated response");
+        } else {
+          results.latencyNanos.add(System.nanoTime() - requestStart);
+          results.bytes += bytes;
+        }
+      } catch (IOException e) {
+        results.addFailure(e.getClass().getSimpleName());
+      }
+    }
+    return results;
+  }
+
+  private static double percentileMillis(List<Long> sortedLatencies, double percentile) {
+    if (sortedLatencies.isEmpty()) {
+      return 0;
+    }
+    int index = (int) Math.ceil(percentile * sortedLatencies.size()) - 1;
+    return sortedLatencies.get(Math.max(index, 0)) / 1e6;
+  }
+
+  private static class Results {
+    private final List<Long> latencyNanos = new ArrayList<>();
+    private long bytes;
+    private final Map<String, Long> failures = new HashMap<>();
+
+    private void addFailure(String reason) {
+      failures.merge(reason, 1L, Long::sum);
+    }
+  }
+}
@@ -32,7 +32,7 @@ import org.eclipse.jetty.server.Request;
 public class TracesHandlerDelegate extends AbstractTemplateHandlerDelegate {
 
   private static final Pattern TRACE_FILE_NAME_PATTERN =
-      Pattern.compile("build\\.(?:[\\d\\-\\.]+\\.)?" + BuildTraces.TRACE_ID_PATTERN + "\\.trace");
+      Pattern.compile("build\\.(?:[\\d\\-\\.]+\\.)?" + BuildTraces.TRACE_ID_PATTERN + "\\.b?trace");
 
   private final BuildTraces buildTraces;
 
@@ -24,6 +24,7 @@ import com.google.common.collect.ImmutableList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.Server;
@@ -100,7 +101,22 @@ public class WebServer {
    */
   public synchronized void updateAndStartIfNeeded(Optional<ArtifactCache> artifactCache)
       throws WebServerException {
+    updateAndStartIfNeeded(artifactCache, OptionalInt.empty());
+  }
+
+  /**
+   * Update state and start the server if necessary.
+   *
+   * @param artifactCache cache to serve.
+   * @param maxConcurrentCacheRequests how many cache requests to handle at the same time, if that
+   *     is limited.
+   * @throws WebServerException
+   */
+  public synchronized void updateAndStartIfNeeded(
+      Optional<ArtifactCache> artifactCache, OptionalInt maxConcurrentCacheRequests)
+      throws WebServerException {
     artifactCacheHandler.setArtifactCache(artifactCache);
+    artifactCacheHandler.setMaxConcurrentRequests(maxConcurrentCacheRequests);
 
     if (server.isStarted()) {
       return;
@@ -86,6 +86,24 @@ abstract class AbstractBuckPaths {
     return getBuckOut().resolve("cache");
   }
 
+  /** The file in which source file hashes are persisted between daemon restarts. */
+  @Value.Derived
+  public Path getFileHashCacheFile() {
+    return getBuckOut().resolve(".filehashcache");
+  }
+
+  /** The file in which the durations of locally built rules are kept between builds. */
+  @Value.Derived
+  public Path getBuildRuleDurationsFile() {
+    return getBuckOut().resolve(".ruledurations");
+  }
+
+  /** The file in which the resources used by locally built rules are kept between builds. */
+  @Value.Derived
+  public Path getBuildRuleResourcesFile() {
+    return getBuckOut().resolve(".ruleresources");
+  }
+
   @Value.Derived
   public Path getTmpDir() {
     return getBuckOut().resolve("tmp");
@@ -58,6 +58,7 @@ public class JsUtil {
                 tool.getCommandPrefix(sourcePathResolver),
                 tool.getEnvironment(sourcePathResolver),
                 worker.getMaxWorkers(),
+                worker.getMaxJobsPerWorker(),
                 worker.isPersistent()
                     ? Optional.of(
                         WorkerProcessIdentity.of(
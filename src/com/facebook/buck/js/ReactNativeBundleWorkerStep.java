@@ -68,6 +68,7 @@ public class ReactNativeBundleWorkerStep extends WorkerShellStep {
                         .build(),
                     startupEnv,
                     1,
+                    1,
                     Optional.empty()))),
         Optional.empty(),
         Optional.empty(),
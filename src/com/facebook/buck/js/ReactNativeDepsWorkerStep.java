@@ -55,6 +55,7 @@ public class ReactNativeDepsWorkerStep extends WorkerShellStep {
                         .build(),
                     startupEnv,
                     1,
+                    1,
                     Optional.empty()))),
         Optional.empty(),
         Optional.empty(),
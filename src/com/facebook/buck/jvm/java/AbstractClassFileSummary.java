@@ -0,0 +1,279 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.util.immutables.BuckStyleImmutable;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.lang.reflect.Array;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import javax.annotation.Nullable;
+import org.immutables.value.Value;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.commons.ClassRemapper;
+import org.objectweb.asm.commons.Remapper;
+import org.objectweb.asm.tree.ClassNode;
+
+/**
+ * What incremental compilation needs to know about a class file: the classes it refers to, and
+ * hashes of the parts of it other classes can depend on.
+ */
+@Value.Immutable
+@BuckStyleImmutable
+@JsonSerialize(as = ClassFileSummary.class)
+@JsonDeserialize(as = ClassFileSummary.class)
+abstract class AbstractClassFileSummary {
+  /** @return the internal name of the class. */
+  public abstract String getName();
+
+  /** @return the name of the source file the class was compiled from, without its directory. */
+  public abstract Optional<String> getSourceFileName();
+
+  /**
+   * @return a hash of the non-private API of the class: its declaration, the signatures of its
+   *     non-private fields and methods and the annotations on all of them.
+   */
+  public abstract String getAbiHash();
+
+  /**
+   * @return a hash of the values of the constants of the class, which javac copies into the
+   *     classes using them instead of referring to them.
+   */
+  public abstract String getConstantsHash();
+
+  /** @return the internal names of the superclass and the interfaces of the class. */
+  public abstract ImmutableSortedSet<String> getSupertypes();
+
+  /** @return the internal names of the classes outside of {@code java.*} the class refers to. */
+  public abstract ImmutableSortedSet<String> getReferencedClasses();
+
+  public static ClassFileSummary of(byte[] classFile) {
+    ClassReader reader = new ClassReader(classFile);
+
+    SortedSet<String> referencedClasses = new TreeSet<>();
+    reader.accept(
+        new ClassRemapper(
+            new ClassNode(Opcodes.ASM6),
+            new Remapper() {
+              @Override
+              public String map(String typeName) {
+                if (!typeName.startsWith("java/")) {
+                  referencedClasses.add(typeName);
+                }
+                return typeName;
+              }
+            }),
+        0);
+    referencedClasses.remove(reader.getClassName());
+
+    AbiCollector abi = new AbiCollector();
+    reader.accept(abi, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG);
+    ImmutableSortedSet.Builder<String> supertypes = ImmutableSortedSet.naturalOrder();
+    if (reader.getSuperName() != null) {
+      supertypes.add(reader.getSuperName());
+    }
+    supertypes.add(reader.getInterfaces());
+
+    return ClassFileSummary.builder()
+        .setName(reader.getClassName())
+        .setSourceFileName(getSourceFileName(reader))
+        .setAbiHash(hash(abi.members))
+        .setConstantsHash(hash(abi.constants))
+        .setSupertypes(supertypes.build())
+        .setReferencedClasses(ImmutableSortedSet.copyOfSorted(referencedClasses))
+        .build();
+  }
+
+  private static Optional<String> getSourceFileName(ClassReader reader) {
+    String[] sourceFileName = new String[1];
+    reader.accept(
+        new ClassVisitor(Opcodes.ASM6) {
+          @Override
+          public void visitSource(String source, String debug) {
+            sourceFileName[0] = source;
+          }
+        },
+        ClassReader.SKIP_CODE);
+    return Optional.ofNullable(sourceFileName[0]);
+  }
+
+  private static String hash(SortedSet<String> lines) {
+    Hasher hasher = Hashing.sha1().newHasher();
+    for (String line : lines) {
+      hasher.putString(line, Charsets.UTF_8).putByte((byte) '\n');
+    }
+    return hasher.hash().toString();
+  }
+
+  /**
+   * Describes every part of the ABI of a class in a line of its own. The lines are sorted before
+   * they are hashed, so that reordering the members of a class doesn't change its ABI.
+   */
+  private static class AbiCollector extends ClassVisitor {
+    private final SortedSet<String> members = new TreeSet<>();
+    private final SortedSet<String> constants = new TreeSet<>();
+
+    private AbiCollector() {
+      super(Opcodes.ASM6);
+    }
+
+    @Override
+    public void visit(
+        int version,
+        int access,
+        String name,
+        @Nullable String signature,
+        @Nullable String superName,
+        String[] interfaces) {
+      members.add(
+          String.format(
+              "class %d %s %s %s %s",
+              access, name, signature, superName, String.join(",", interfaces)));
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+      return new AnnotationCollector(members, "annotation " + desc);
+    }
+
+    @Override
+    public void visitInnerClass(
+        String name, @Nullable String outerName, @Nullable String innerName, int access) {
+      members.add(String.format("inner %s %s %s %d", name, outerName, innerName, access));
+    }
+
+    @Override
+    @Nullable
+    public FieldVisitor visitField(
+        int access, String name, String desc, @Nullable String signature, @Nullable Object value) {
+      if ((access & Opcodes.ACC_PRIVATE) != 0) {
+        return null;
+      }
+      String field = String.format("field %d %s %s %s", access, name, desc, signature);
+      members.add(field);
+      if (value != null) {
+        constants.add(field + " = " + value);
+      }
+      return new FieldVisitor(Opcodes.ASM6) {
+        @Override
+        public AnnotationVisitor visitAnnotation(String annotationDesc, boolean visible) {
+          return new AnnotationCollector(members, field + " annotation " + annotationDesc);
+        }
+      };
+    }
+
+    @Override
+    @Nullable
+    public MethodVisitor visitMethod(
+        int access,
+        String name,
+        String desc,
+        @Nullable String signature,
+        @Nullable String[] exceptions) {
+      if ((access & Opcodes.ACC_PRIVATE) != 0) {
+        return null;
+      }
+      String method =
+          String.format(
+              "method %d %s %s %s %s",
+              access,
+              name,
+              desc,
+              signature,
+              exceptions == null ? "" : String.join(",", exceptions));
+      members.add(method);
+      return new MethodVisitor(Opcodes.ASM6) {
+        @Override
+        public AnnotationVisitor visitAnnotationDefault() {
+          return new AnnotationCollector(members, method + " default");
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String annotationDesc, boolean visible) {
+          return new AnnotationCollector(members, method + " annotation " + annotationDesc);
+        }
+
+        @Override
+        public AnnotationVisitor visitParameterAnnotation(
+            int parameter, String annotationDesc, boolean visible) {
+          return new AnnotationCollector(
+              members, method + " parameter " + parameter + " annotation " + annotationDesc);
+        }
+      };
+    }
+  }
+
+  /** Describes each of the values of an annotation in a line of its own. */
+  private static class AnnotationCollector extends AnnotationVisitor {
+    private final SortedSet<String> lines;
+    private final String prefix;
+    private int arrayIndex = 0;
+
+    private AnnotationCollector(SortedSet<String> lines, String prefix) {
+      super(Opcodes.ASM6);
+      this.lines = lines;
+      this.prefix = prefix;
+      lines.add(prefix);
+    }
+
+    private String getPrefix(@Nullable String name) {
+      // Array elements have no names, their index tells them apart.
+      return prefix + "." + (name == null ? Integer.toString(arrayIndex++) : name);
+    }
+
+    @Override
+    public void visit(@Nullable String name, Object value) {
+      String valueString;
+      if (value.getClass().isArray()) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < Array.getLength(value); i++) {
+          builder.append(Array.get(value, i)).append(',');
+        }
+        valueString = builder.toString();
+      } else {
+        valueString = value.toString();
+      }
+      lines.add(getPrefix(name) + " = " + valueString);
+    }
+
+    @Override
+    public void visitEnum(@Nullable String name, String desc, String value) {
+      lines.add(getPrefix(name) + " = " + desc + "." + value);
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotation(@Nullable String name, String desc) {
+      return new AnnotationCollector(lines, getPrefix(name) + " " + desc);
+    }
+
+    @Override
+    public AnnotationVisitor visitArray(@Nullable String name) {
+      return new AnnotationCollector(lines, getPrefix(name) + "[]");
+    }
+  }
+}
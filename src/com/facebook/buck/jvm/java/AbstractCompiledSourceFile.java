@@ -0,0 +1,38 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.util.immutables.BuckStyleImmutable;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.google.common.collect.ImmutableSortedSet;
+import org.immutables.value.Value;
+
+/** A source file compiled by an incremental compilation, and the classes it was compiled to. */
+@Value.Immutable
+@BuckStyleImmutable
+@JsonSerialize(as = CompiledSourceFile.class)
+@JsonDeserialize(as = CompiledSourceFile.class)
+abstract class AbstractCompiledSourceFile {
+  /** @return the hash of the contents of the source file. */
+  @Value.Parameter
+  public abstract String getHash();
+
+  /** @return the internal names of the classes compiled from the source file. */
+  @Value.Parameter
+  public abstract ImmutableSortedSet<String> getClasses();
+}
@@ -79,6 +79,10 @@ abstract class AbstractCompilerParameters {
     return BuildTargets.getScratchPath(filesystem, target, "lib__%s__classes");
   }
 
+  public static Path getIncrementalStateDir(BuildTarget target, ProjectFilesystem filesystem) {
+    return BuildTargets.getScratchPath(filesystem, target, "lib__%s__incremental");
+  }
+
   public static Path getOutputJarDirPath(BuildTarget target, ProjectFilesystem filesystem) {
     return BuildTargets.getGenPath(filesystem, target, "lib__%s__output");
   }
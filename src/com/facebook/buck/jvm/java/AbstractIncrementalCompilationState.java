@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.util.immutables.BuckStyleImmutable;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
+import org.immutables.value.Value;
+
+/**
+ * What {@link IncrementalJavacCompilation} records about the last successful compilation of a
+ * library, to find out which sources have to be recompiled the next time it is built.
+ */
+@Value.Immutable
+@BuckStyleImmutable
+@JsonSerialize(as = IncrementalCompilationState.class)
+@JsonDeserialize(as = IncrementalCompilationState.class)
+abstract class AbstractIncrementalCompilationState {
+  /** @return the javac options of the compilation, which include the classpath. */
+  public abstract ImmutableList<String> getOptions();
+
+  /** @return the compiled sources, by their path relative to the project root. */
+  public abstract ImmutableSortedMap<String, CompiledSourceFile> getSources();
+
+  /** @return the compiled classes, by their internal name. */
+  public abstract ImmutableSortedMap<String, ClassFileSummary> getClasses();
+
+  /** @return the classes javac read from the jars on the classpath. */
+  public abstract ImmutableList<UsedClasspathClass> getUsedClasspathClasses();
+}
@@ -60,4 +60,7 @@ abstract class AbstractJavacExecutionContext {
 
   /** Setting this to non-absent value enables direct to jar output. */
   public abstract Optional<JarParameters> getDirectToJarParameters();
+
+  /** Whether in-process javac lists classpath jars through a {@link ClasspathJarIndexCache}. */
+  public abstract boolean shouldIndexClasspathJars();
 }
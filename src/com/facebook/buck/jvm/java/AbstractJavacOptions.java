@@ -128,6 +128,24 @@ abstract class AbstractJavacOptions implements AddsToRuleKey {
     return false;
   }
 
+  /**
+   * Whether only the sources affected by a change are recompiled. Not part of the rule key, since
+   * incremental compilation produces the same classes as a full one.
+   */
+  @Value.Default
+  public boolean isIncrementalCompilation() {
+    return false;
+  }
+
+  /**
+   * Whether in-process javac lists the jars on the classpath using the indexes shared by all of the
+   * compilations of the daemon. See {@link ClasspathJarIndexCache}.
+   */
+  @Value.Default
+  public boolean shouldIndexClasspathJars() {
+    return true;
+  }
+
   public void validateOptions(Function<String, Boolean> classpathChecker) throws IOException {
     if (getBootclasspath().isPresent()) {
       String bootclasspath = getBootclasspath().get();
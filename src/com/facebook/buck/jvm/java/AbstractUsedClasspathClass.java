@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.util.immutables.BuckStyleImmutable;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.immutables.value.Value;
+
+/** A class from a jar on the classpath which was read by an incremental compilation. */
+@Value.Immutable
+@BuckStyleImmutable
+@JsonSerialize(as = UsedClasspathClass.class)
+@JsonDeserialize(as = UsedClasspathClass.class)
+abstract class AbstractUsedClasspathClass {
+  /** @return the absolute path of the jar. */
+  @Value.Parameter
+  public abstract String getJar();
+
+  /** @return the path of the class file in the jar. */
+  @Value.Parameter
+  public abstract String getPath();
+
+  /** @return the CRC32 of the class file, as recorded in the jar. */
+  @Value.Parameter
+  public abstract long getCrc();
+
+  /** @see ClassFileSummary#getConstantsHash() */
+  @Value.Parameter
+  public abstract String getConstantsHash();
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Iterables;
+import com.google.common.io.ByteStreams;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.annotation.Nullable;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+
+/**
+ * A {@link StandardJavaFileManager} that lists the contents of the jars on the classpath using the
+ * indexes in a {@link ClasspathJarIndexCache} instead of having javac open and scan every jar. The
+ * jars are only opened to read the entries javac actually uses.
+ *
+ * <p>Each jar is checked against its index once, when it is first listed. Jars on the classpath
+ * don't change while javac runs, and javac lists one package at a time, so checking it again for
+ * every package would read the jar over and over.
+ */
+class ClasspathIndexingFileManager extends ForwardingStandardJavaFileManager {
+
+  private final ClasspathJarIndexCache indexCache;
+  private final Map<Path, ZipFile> openJars = new HashMap<>();
+  private final Map<Path, ClasspathJarIndexCache.JarIndex> jarIndexes = new HashMap<>();
+
+  public ClasspathIndexingFileManager(
+      StandardJavaFileManager fileManager, ClasspathJarIndexCache indexCache) {
+    super(fileManager);
+    this.indexCache = indexCache;
+  }
+
+  @Override
+  public Iterable<JavaFileObject> list(
+      Location location, String packageName, Set<JavaFileObject.Kind> kinds, boolean recurse)
+      throws IOException {
+    Iterable<? extends File> classpath = getLocation(location);
+    if (location != StandardLocation.CLASS_PATH || classpath == null) {
+      return super.list(location, packageName, kinds, recurse);
+    }
+
+    String packagePath = packageName.replace('.', '/');
+    List<JavaFileObject> results = new ArrayList<>();
+    // Keep the order of the classpath, javac uses the first class it finds.
+    for (File entry : classpath) {
+      if (entry.isDirectory()) {
+        List<File> files = new ArrayList<>();
+        listDirectory(new File(entry, packagePath), kinds, recurse, files);
+        Iterables.addAll(results, fileManager.getJavaFileObjectsFromFiles(files));
+      } else if (entry.isFile()) {
+        Path jar = entry.toPath().toAbsolutePath();
+        for (String name : getIndex(jar).getEntries(packagePath, recurse)) {
+          if (kinds.contains(kindOf(name))) {
+            results.add(new JarEntryFileObject(jar, name));
+          }
+        }
+      }
+    }
+    return results;
+  }
+
+  private static void listDirectory(
+      File directory, Set<JavaFileObject.Kind> kinds, boolean recurse, List<File> files) {
+    File[] children = directory.listFiles();
+    if (children == null) {
+      return;
+    }
+    for (File child : children) {
+      if (child.isDirectory()) {
+        if (recurse) {
+          listDirectory(child, kinds, true, files);
+        }
+      } else if (kinds.contains(kindOf(child.getName()))) {
+        files.add(child);
+      }
+    }
+  }
+
+  @Override
+  public String inferBinaryName(Location location, JavaFileObject file) {
+    if (file instanceof JarEntryFileObject) {
+      return ((JarEntryFileObject) file).getBinaryName();
+    }
+    return super.inferBinaryName(location, file);
+  }
+
+  @Override
+  public boolean isSameFile(FileObject a, FileObject b) {
+    boolean aIsJarEntry = a instanceof JarEntryFileObject;
+    boolean bIsJarEntry = b instanceof JarEntryFileObject;
+    if (aIsJarEntry || bIsJarEntry) {
+      return aIsJarEntry && bIsJarEntry && a.toUri().equals(b.toUri());
+    }
+    return super.isSameFile(a, b);
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    try {
+      for (ZipFile jar : openJars.values()) {
+        jar.close();
+      }
+      openJars.clear();
+    } finally {
+      super.close();
+    }
+  }
+
+  private synchronized ClasspathJarIndexCache.JarIndex getIndex(Path jar) throws IOException {
+    ClasspathJarIndexCache.JarIndex index = jarIndexes.get(jar);
+    if (index == null) {
+      index = indexCache.getIndex(jar);
+      jarIndexes.put(jar, index);
+    }
+    return index;
+  }
+
+  private synchronized ZipFile openJar(Path jar) throws IOException {
+    ZipFile zipFile = openJars.get(jar);
+    if (zipFile == null) {
+      zipFile = new ZipFile(jar.toFile());
+      openJars.put(jar, zipFile);
+    }
+    return zipFile;
+  }
+
+  private static JavaFileObject.Kind kindOf(String name) {
+    if (name.endsWith(JavaFileObject.Kind.CLASS.extension)) {
+      return JavaFileObject.Kind.CLASS;
+    } else if (name.endsWith(JavaFileObject.Kind.SOURCE.extension)) {
+      return JavaFileObject.Kind.SOURCE;
+    } else if (name.endsWith(JavaFileObject.Kind.HTML.extension)) {
+      return JavaFileObject.Kind.HTML;
+    }
+    return JavaFileObject.Kind.OTHER;
+  }
+
+  private static URI getJarEntryUri(Path jar, String name) {
+    // Like the file objects of javac, which ClassUsageTracker relies on. The uri of the jar is
+    // already escaped, so it must not be escaped again.
+    return URI.create("jar:" + jar.toFile().toURI().normalize() + "!/" + name);
+  }
+
+  /**
+   * An entry of a jar on the classpath, which is only opened when it is read. Like {@link
+   * JarFileObject} it uses a jar uri, which {@link SimpleJavaFileObject} doesn't support.
+   */
+  private class JarEntryFileObject implements JavaFileObject {
+    private final Path jar;
+    private final String name;
+    private final Kind kind;
+    private final URI uri;
+
+    private JarEntryFileObject(Path jar, String name) {
+      this.jar = jar;
+      this.name = name;
+      this.kind = kindOf(name);
+      this.uri = getJarEntryUri(jar, name);
+    }
+
+    private String getBinaryName() {
+      String path = name.substring(0, name.length() - kind.extension.length());
+      return path.replace('/', '.');
+    }
+
+    @Override
+    public URI toUri() {
+      return uri;
+    }
+
+    @Override
+    public String getName() {
+      return jar + "(" + name + ")";
+    }
+
+    @Override
+    public Kind getKind() {
+      return kind;
+    }
+
+    @Override
+    public boolean isNameCompatible(String simpleName, Kind kind) {
+      String baseName = simpleName + kind.extension;
+      return kind.equals(this.kind) && (baseName.equals(name) || name.endsWith("/" + baseName));
+    }
+
+    @Override
+    public InputStream openInputStream() throws IOException {
+      ZipFile zipFile = openJar(jar);
+      return zipFile.getInputStream(getEntry(zipFile));
+    }
+
+    @Override
+    public Reader openReader(boolean ignoreEncodingErrors) throws IOException {
+      return new InputStreamReader(openInputStream(), Charsets.UTF_8);
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) throws IOException {
+      try (InputStream stream = openInputStream()) {
+        return new String(ByteStreams.toByteArray(stream), Charsets.UTF_8);
+      }
+    }
+
+    @Override
+    public OutputStream openOutputStream() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Writer openWriter() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long getLastModified() {
+      try {
+        return getEntry(openJar(jar)).getTime();
+      } catch (IOException e) {
+        return 0L;
+      }
+    }
+
+    @Override
+    public boolean delete() {
+      return false;
+    }
+
+    @Override
+    @Nullable
+    public NestingKind getNestingKind() {
+      return null;
+    }
+
+    @Override
+    @Nullable
+    public Modifier getAccessLevel() {
+      return null;
+    }
+
+    @Override
+    public String toString() {
+      return getClass().getName() + "[" + uri + "]";
+    }
+
+    private ZipEntry getEntry(ZipFile zipFile) throws FileNotFoundException {
+      ZipEntry entry = zipFile.getEntry(name);
+      if (entry == null) {
+        throw new FileNotFoundException(uri.toString());
+      }
+      return entry;
+    }
+  }
+}
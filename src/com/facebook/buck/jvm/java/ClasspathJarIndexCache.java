@@ -0,0 +1,216 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Enumeration;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+
+/**
+ * A memory bounded cache of the entries of the jars on the classpath of in-process javac. In a
+ * build the same dependency jars are on the classpath of many compilations, and listing their
+ * packages is done once per jar instead of once per compilation.
+ *
+ * <p>Indexes are keyed by the absolute path of the jar and are only used while the size of the jar
+ * and a checksum of its central directory match the ones it had when it was indexed. Jars built by
+ * buck all have the same modification time, so it can't tell whether they changed. The file
+ * managers it creates only check each jar once per compilation.
+ */
+public class ClasspathJarIndexCache implements StandardJavaFileManagerFactory {
+
+  // Roughly the size of the indexes of a few thousand typical dependency jars.
+  private static final long DEFAULT_MAX_WEIGHT_BYTES = 64L * 1024 * 1024;
+
+  private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+  private static final long ZIP64_MAGIC_OFFSET = 0xFFFFFFFFL;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final ClasspathJarIndexCache SHARED_INSTANCE =
+      new ClasspathJarIndexCache(DEFAULT_MAX_WEIGHT_BYTES);
+
+  private final Cache<Path, JarIndex> indexes;
+
+  @VisibleForTesting
+  ClasspathJarIndexCache(long maxWeightBytes) {
+    this.indexes =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxWeightBytes)
+            .weigher((Path path, JarIndex index) -> index.getWeight())
+            .build();
+  }
+
+  /** @return the cache shared by all of the compilations run in this process. */
+  public static ClasspathJarIndexCache getSharedInstance() {
+    return SHARED_INSTANCE;
+  }
+
+  @Override
+  public StandardJavaFileManager create(JavaCompiler compiler) {
+    return new ClasspathIndexingFileManager(
+        compiler.getStandardFileManager(null, null, null), this);
+  }
+
+  /** @return the index of the jar at the given absolute path, reading the jar if needed. */
+  JarIndex getIndex(Path jar) throws IOException {
+    long size;
+    long checksum;
+    try (FileChannel channel = FileChannel.open(jar, StandardOpenOption.READ)) {
+      size = channel.size();
+      checksum = checksumCentralDirectory(channel);
+    }
+    JarIndex index = indexes.getIfPresent(jar);
+    if (index == null || !index.matches(size, checksum)) {
+      index = JarIndex.read(jar, size, checksum);
+      indexes.put(jar, index);
+    }
+    return index;
+  }
+
+  /**
+   * @return a CRC of the central directory of the given jar. It lists the names, sizes and CRCs of
+   *     all of the entries, so it changes whenever the contents of the jar do, and it is much
+   *     smaller than the jar itself.
+   */
+  private static long checksumCentralDirectory(FileChannel channel) throws IOException {
+    long size = channel.size();
+    // The end of central directory record is at the end of the jar, followed by a comment.
+    int tailSize = (int) Math.min(size, ZipEntry.ENDHDR + MAX_COMMENT_LENGTH);
+    ByteBuffer tail = ByteBuffer.allocate(tailSize).order(ByteOrder.LITTLE_ENDIAN);
+    readFully(channel, tail, size - tailSize);
+    for (int offset = tailSize - ZipEntry.ENDHDR; offset >= 0; offset--) {
+      if (tail.getInt(offset) != ZipEntry.ENDSIG) {
+        continue;
+      }
+      long directoryOffset = tail.getInt(offset + ZipEntry.ENDOFF) & 0xFFFFFFFFL;
+      if (directoryOffset == ZIP64_MAGIC_OFFSET || directoryOffset > size) {
+        // The real offset is in the zip64 records, checksum the whole jar instead.
+        directoryOffset = 0;
+      }
+      // Everything from the start of the central directory to the end of the jar.
+      CRC32 crc = new CRC32();
+      ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+      for (long position = directoryOffset; position < size; position += buffer.limit()) {
+        buffer.clear();
+        buffer.limit((int) Math.min(BUFFER_SIZE, size - position));
+        readFully(channel, buffer, position);
+        crc.update(buffer);
+      }
+      return crc.getValue();
+    }
+    throw new ZipException("Could not find the end of the central directory.");
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position + buffer.position());
+      if (read < 0) {
+        throw new EOFException();
+      }
+    }
+    buffer.flip();
+  }
+
+  @VisibleForTesting
+  long size() {
+    return indexes.size();
+  }
+
+  /** The names of the entries of a jar, grouped by the package they are in. */
+  static class JarIndex {
+    // A rough estimate of the memory used by a String and its place in the multimap.
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private final long size;
+    private final long checksum;
+    private final ImmutableListMultimap<String, String> entriesByPackage;
+    private final int weight;
+
+    private JarIndex(
+        long size, long checksum, ImmutableListMultimap<String, String> entriesByPackage) {
+      this.size = size;
+      this.checksum = checksum;
+      this.entriesByPackage = entriesByPackage;
+      long weight = 0;
+      for (String entry : entriesByPackage.values()) {
+        weight += ENTRY_OVERHEAD_BYTES + 2 * entry.length();
+      }
+      this.weight = (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    static JarIndex read(Path jar, long size, long checksum) throws IOException {
+      ImmutableListMultimap.Builder<String, String> entriesByPackage =
+          ImmutableListMultimap.builder();
+      try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+        Enumeration<? extends ZipEntry> entries = zipFile.entries();
+        while (entries.hasMoreElements()) {
+          ZipEntry entry = entries.nextElement();
+          if (entry.isDirectory()) {
+            continue;
+          }
+          String name = entry.getName();
+          int lastSlash = name.lastIndexOf('/');
+          entriesByPackage.put(lastSlash < 0 ? "" : name.substring(0, lastSlash), name);
+        }
+      }
+      return new JarIndex(size, checksum, entriesByPackage.build());
+    }
+
+    boolean matches(long size, long checksum) {
+      return this.size == size && this.checksum == checksum;
+    }
+
+    /**
+     * @param packagePath the package, with its parts separated by slashes
+     * @return the names of the entries in the package and, if {@code recurse} is set, in its
+     *     subpackages.
+     */
+    Iterable<String> getEntries(String packagePath, boolean recurse) {
+      if (!recurse) {
+        return entriesByPackage.get(packagePath);
+      }
+      String prefix = packagePath.isEmpty() ? "" : packagePath + "/";
+      ImmutableList.Builder<String> entries = ImmutableList.builder();
+      for (String subpackage : entriesByPackage.keySet()) {
+        if (subpackage.equals(packagePath) || subpackage.startsWith(prefix)) {
+          entries.addAll(entriesByPackage.get(subpackage));
+        }
+      }
+      return entries.build();
+    }
+
+    int getWeight() {
+      return weight;
+    }
+  }
+}
@@ -33,6 +33,8 @@ public final class DefaultClassUsageFileWriter implements ClassUsageFileWriter {
 
   private final Path relativePath;
   private final ClassUsageTracker tracker = new ClassUsageTracker();
+  private final ImmutableSetMultimap.Builder<Path, Path> additionalClassUsage =
+      ImmutableSetMultimap.builder();
 
   public DefaultClassUsageFileWriter(Path relativePath) {
     this.relativePath = relativePath;
@@ -47,9 +49,25 @@ public final class DefaultClassUsageFileWriter implements ClassUsageFileWriter {
     return tracker.wrapFileManager(inner);
   }
 
+  /**
+   * Adds classes used by an earlier compilation whose outputs are reused, so that they are written
+   * along with the classes used by this one.
+   */
+  public void addClassUsage(ImmutableSetMultimap<Path, Path> classUsage) {
+    additionalClassUsage.putAll(classUsage);
+  }
+
+  /** @return a map from the absolute paths of jars to the classes used from them. */
+  public ImmutableSetMultimap<Path, Path> getClassUsageMap() {
+    return ImmutableSetMultimap.<Path, Path>builder()
+        .putAll(tracker.getClassUsageMap())
+        .putAll(additionalClassUsage.build())
+        .build();
+  }
+
   @Override
   public void writeFile(ProjectFilesystem filesystem, CellPathResolver cellPathResolver) {
-    ImmutableSetMultimap<Path, Path> classUsageMap = tracker.getClassUsageMap();
+    ImmutableSetMultimap<Path, Path> classUsageMap = getClassUsageMap();
     try {
       ObjectMappers.WRITER.writeValue(
           filesystem.resolve(relativePath).toFile(),
@@ -0,0 +1,596 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.rules.CellPathResolver;
+import com.facebook.buck.util.ObjectMappers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Sets;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.annotation.Nullable;
+
+/**
+ * Compiles the sources of a library incrementally: only the sources which changed since the last
+ * successful compilation, and the sources using classes whose ABI changed, are recompiled. The
+ * classes compiled from the other sources are restored from the last compilation.
+ *
+ * <p>Which classes a source uses is read from the class files it was compiled to, and which
+ * classes the library uses from its classpath is recorded by {@link ClassUsageTracker}. A new class
+ * may shadow a class other sources used before, so the sources in its package and the sources using
+ * a class with the same simple name are recompiled too. Whenever that isn't enough to tell which
+ * sources a change affects, all of the sources are recompiled. That is the case when the value of
+ * a constant changes, since javac copies constants into the classes using them, or when a class on
+ * the classpath changes which none of the classes of the library refer to, which happens when it is
+ * the supertype of a class they use.
+ */
+class IncrementalJavacCompilation {
+  private static final Logger LOG = Logger.get(IncrementalJavacCompilation.class);
+
+  private static final String STATE_FILE = "state.json";
+  private static final String CLASSES_DIRECTORY = "classes";
+  private static final String CLASS_FILE_EXTENSION = ".class";
+
+  /** Runs javac on some of the sources of the library. */
+  interface Compiler {
+    int compile(ImmutableSortedSet<Path> sources, ImmutableSortedSet<Path> classpathEntries)
+        throws InterruptedException;
+  }
+
+  private final ProjectFilesystem filesystem;
+  private final Path stateDirectory;
+  private final Path outputDirectory;
+  private final ImmutableSortedSet<Path> sources;
+  private final ImmutableSortedSet<Path> classpathEntries;
+  private final ImmutableList<String> options;
+  private final DefaultClassUsageFileWriter classUsageFileWriter;
+
+  // What is known about the sources and classes of the library, updated as sources are compiled.
+  private final Map<Path, CompiledSourceFile> compiledSources = new HashMap<>();
+  private final Map<String, ClassFileSummary> classes = new HashMap<>();
+  // The class files restored or compiled into the output directory, and the compiled ones alone.
+  private final Set<Path> classFilesWritten = new HashSet<>();
+  private final Set<Path> classFilesCompiled = new HashSet<>();
+
+  IncrementalJavacCompilation(
+      ProjectFilesystem filesystem,
+      Path stateDirectory,
+      Path outputDirectory,
+      ImmutableSortedSet<Path> sources,
+      ImmutableSortedSet<Path> classpathEntries,
+      ImmutableList<String> options,
+      DefaultClassUsageFileWriter classUsageFileWriter) {
+    this.filesystem = filesystem;
+    this.stateDirectory = stateDirectory;
+    this.outputDirectory = outputDirectory;
+    this.sources = sources;
+    this.classpathEntries = classpathEntries;
+    this.options = options;
+    this.classUsageFileWriter = classUsageFileWriter;
+  }
+
+  /**
+   * Compiles the sources which have to be compiled, and restores the classes of the others, into
+   * the output directory. On success, the class usage file is written and the state for the next
+   * compilation is saved.
+   */
+  int compile(Compiler compiler, CellPathResolver cellPathResolver)
+      throws IOException, InterruptedException {
+    ImmutableMap<Path, String> sourceHashes = hashSources();
+    Optional<IncrementalCompilationState> previousState = readState();
+    int result;
+    try {
+      if (!previousState.isPresent()) {
+        throw new FullCompilationRequiredException("there is no previous compilation");
+      }
+      if (!previousState.get().getOptions().equals(options)) {
+        throw new FullCompilationRequiredException("the options or the classpath changed");
+      }
+      result = compileIncrementally(compiler, previousState.get(), sourceHashes);
+    } catch (FullCompilationRequiredException e) {
+      LOG.info("Compiling all sources into %s: %s.", outputDirectory, e.getMessage());
+      previousState = Optional.empty();
+      result = compileAll(compiler, sourceHashes);
+    }
+    if (result == 0) {
+      if (previousState.isPresent()) {
+        classUsageFileWriter.addClassUsage(toClassUsageMap(previousState.get()));
+      }
+      classUsageFileWriter.writeFile(filesystem, cellPathResolver);
+      saveState(previousState);
+    }
+    return result;
+  }
+
+  private int compileAll(Compiler compiler, ImmutableMap<Path, String> sourceHashes)
+      throws IOException, InterruptedException {
+    for (Path classFile : classFilesWritten) {
+      filesystem.deleteFileAtPathIfExists(classFile);
+    }
+    classFilesWritten.clear();
+    classFilesCompiled.clear();
+    compiledSources.clear();
+    classes.clear();
+
+    Set<Path> existingClassFiles = listClassFiles();
+    int result = compiler.compile(sources, classpathEntries);
+    if (result != 0) {
+      return result;
+    }
+    try {
+      addCompiledClasses(sources, existingClassFiles, sourceHashes);
+    } catch (FullCompilationRequiredException e) {
+      // The classes are fine, the next compilation just can't be incremental.
+      LOG.info("Not saving the state of %s: %s.", outputDirectory, e.getMessage());
+      compiledSources.clear();
+    }
+    return 0;
+  }
+
+  private int compileIncrementally(
+      Compiler compiler,
+      IncrementalCompilationState previousState,
+      ImmutableMap<Path, String> sourceHashes)
+      throws FullCompilationRequiredException, IOException, InterruptedException {
+    for (Map.Entry<String, CompiledSourceFile> entry :
+        previousState.getSources().entrySet()) {
+      compiledSources.put(Paths.get(entry.getKey()), entry.getValue());
+    }
+    classes.putAll(previousState.getClasses());
+
+    Set<Path> sourcesToCompile = new TreeSet<>();
+    Set<String> changedClasses = new HashSet<>();
+    for (Path source : sources) {
+      CompiledSourceFile compiledSource = compiledSources.get(source);
+      if (compiledSource == null || !compiledSource.getHash().equals(sourceHashes.get(source))) {
+        sourcesToCompile.add(source);
+      }
+    }
+    for (Path source : ImmutableSet.copyOf(compiledSources.keySet())) {
+      if (!sources.contains(source)) {
+        // The classes of a removed source are gone, which is an ABI change too.
+        changedClasses.addAll(compiledSources.remove(source).getClasses());
+        classes.keySet().removeAll(changedClasses);
+      }
+    }
+
+    Set<String> changedClasspathClasses =
+        findChangedClasspathClasses(previousState.getUsedClasspathClasses());
+    for (String changedClass : changedClasspathClasses) {
+      if (getDependents(ImmutableSet.of(changedClass)).isEmpty()) {
+        throw new FullCompilationRequiredException(
+            changedClass + " changed, but no class of the library refers to it");
+      }
+    }
+    changedClasses.addAll(changedClasspathClasses);
+
+    restoreClasses(sourcesToCompile);
+
+    Set<Path> compiled = new HashSet<>();
+    ImmutableSortedSet<Path> classpathWithOutputDirectory =
+        ImmutableSortedSet.<Path>naturalOrder()
+            .addAll(classpathEntries)
+            .add(filesystem.resolve(outputDirectory))
+            .build();
+    Set<String> addedClasses = new HashSet<>();
+    while (true) {
+      sourcesToCompile.addAll(Sets.difference(getDependents(changedClasses), compiled));
+      sourcesToCompile.addAll(Sets.difference(getSourcesShadowedBy(addedClasses), compiled));
+      if (sourcesToCompile.isEmpty()) {
+        return 0;
+      }
+      LOG.debug("Recompiling %d sources into %s.", sourcesToCompile.size(), outputDirectory);
+
+      Map<String, ClassFileSummary> previousClasses = new HashMap<>();
+      for (Path source : sourcesToCompile) {
+        CompiledSourceFile compiledSource = compiledSources.remove(source);
+        if (compiledSource == null) {
+          continue;
+        }
+        for (String className : compiledSource.getClasses()) {
+          filesystem.deleteFileAtPathIfExists(getClassFile(outputDirectory, className));
+          previousClasses.put(className, classes.remove(className));
+        }
+      }
+
+      Set<Path> existingClassFiles = listClassFiles();
+      ImmutableSortedSet<Path> batch = ImmutableSortedSet.copyOf(sourcesToCompile);
+      int result = compiler.compile(batch, classpathWithOutputDirectory);
+      if (result != 0) {
+        return result;
+      }
+      addCompiledClasses(batch, existingClassFiles, sourceHashes);
+
+      changedClasses.clear();
+      addedClasses.clear();
+      for (Path source : batch) {
+        for (String className : compiledSources.get(source).getClasses()) {
+          if (!previousClasses.containsKey(className)) {
+            addedClasses.add(className);
+          }
+        }
+      }
+      for (ClassFileSummary previousClass : previousClasses.values()) {
+        ClassFileSummary compiledClass = classes.get(previousClass.getName());
+        if (compiledClass == null
+            || !compiledClass.getAbiHash().equals(previousClass.getAbiHash())) {
+          changedClasses.add(previousClass.getName());
+        }
+        if (compiledClass != null
+            && !compiledClass.getConstantsHash().equals(previousClass.getConstantsHash())) {
+          throw new FullCompilationRequiredException(
+              "the constants of " + previousClass.getName() + " changed");
+        }
+      }
+      compiled.addAll(batch);
+      sourcesToCompile.clear();
+    }
+  }
+
+  /**
+   * @return the sources compiled to classes which refer to one of the given classes, or to one of
+   *     their subclasses in the library.
+   */
+  private Set<Path> getDependents(Set<String> changedClasses) {
+    Set<String> affectedClasses = new HashSet<>(changedClasses);
+    boolean addedSubclass = true;
+    while (addedSubclass) {
+      addedSubclass = false;
+      for (ClassFileSummary summary : classes.values()) {
+        if (!affectedClasses.contains(summary.getName())
+            && !Collections.disjoint(summary.getSupertypes(), affectedClasses)) {
+          affectedClasses.add(summary.getName());
+          addedSubclass = true;
+        }
+      }
+    }
+
+    Set<Path> dependents = new HashSet<>();
+    for (Map.Entry<Path, CompiledSourceFile> entry : compiledSources.entrySet()) {
+      for (String className : entry.getValue().getClasses()) {
+        ClassFileSummary summary = classes.get(className);
+        if (summary != null
+            && !Collections.disjoint(summary.getReferencedClasses(), affectedClasses)) {
+          dependents.add(entry.getKey());
+          break;
+        }
+      }
+    }
+    return dependents;
+  }
+
+  /**
+   * @return the sources which may now resolve a name to one of the given new classes instead of the
+   *     class they used before: the sources in the package of a new class, and the sources using a
+   *     class with the same simple name, which a new class in a package imported on demand shadows.
+   */
+  private Set<Path> getSourcesShadowedBy(Set<String> addedClasses) {
+    Set<String> addedPackages = new HashSet<>();
+    Set<String> addedSimpleNames = new HashSet<>();
+    for (String className : addedClasses) {
+      String simpleName = getSimpleName(className);
+      // Anonymous and local classes can't be referred to by name.
+      if (!simpleName.isEmpty() && !Character.isDigit(simpleName.charAt(0))) {
+        addedPackages.add(getPackageName(className));
+        addedSimpleNames.add(simpleName);
+      }
+    }
+    if (addedSimpleNames.isEmpty()) {
+      return ImmutableSet.of();
+    }
+
+    Set<Path> shadowed = new HashSet<>();
+    for (Map.Entry<Path, CompiledSourceFile> entry : compiledSources.entrySet()) {
+      for (String className : entry.getValue().getClasses()) {
+        ClassFileSummary summary = classes.get(className);
+        if (addedPackages.contains(getPackageName(className))
+            || (summary != null
+                && summary
+                    .getReferencedClasses()
+                    .stream()
+                    .anyMatch(
+                        referencedClass ->
+                            addedSimpleNames.contains(getSimpleName(referencedClass))))) {
+          shadowed.add(entry.getKey());
+          break;
+        }
+      }
+    }
+    return shadowed;
+  }
+
+  private Set<String> findChangedClasspathClasses(List<UsedClasspathClass> usedClasses)
+      throws FullCompilationRequiredException, IOException {
+    Set<String> changedClasses = new HashSet<>();
+    Map<String, List<UsedClasspathClass>> usedClassesByJar = new HashMap<>();
+    for (UsedClasspathClass usedClass : usedClasses) {
+      usedClassesByJar.computeIfAbsent(usedClass.getJar(), jar -> new ArrayList<>()).add(usedClass);
+    }
+    for (Map.Entry<String, List<UsedClasspathClass>> entry : usedClassesByJar.entrySet()) {
+      Path jar = Paths.get(entry.getKey());
+      if (!Files.isRegularFile(jar)) {
+        throw new FullCompilationRequiredException(jar + " is gone");
+      }
+      try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+        for (UsedClasspathClass usedClass : entry.getValue()) {
+          ZipEntry zipEntry = zipFile.getEntry(usedClass.getPath());
+          if (zipEntry != null && zipEntry.getCrc() == usedClass.getCrc()) {
+            continue;
+          }
+          String className = getClassName(usedClass.getPath());
+          if (zipEntry != null
+              && !readClassFile(zipFile, zipEntry)
+                  .getConstantsHash()
+                  .equals(usedClass.getConstantsHash())) {
+            throw new FullCompilationRequiredException(
+                "the constants of " + className + " changed");
+          }
+          changedClasses.add(className);
+        }
+      }
+    }
+    return changedClasses;
+  }
+
+  /** Copies the classes of the sources which don't have to be compiled into the output. */
+  private void restoreClasses(Set<Path> sourcesToCompile) throws IOException {
+    for (Map.Entry<Path, CompiledSourceFile> entry : compiledSources.entrySet()) {
+      if (sourcesToCompile.contains(entry.getKey())) {
+        continue;
+      }
+      for (String className : entry.getValue().getClasses()) {
+        Path classFile = getClassFile(outputDirectory, className);
+        filesystem.createParentDirs(classFile);
+        filesystem.copyFile(getClassFile(getClassesDirectory(), className), classFile);
+        classFilesWritten.add(classFile);
+      }
+    }
+  }
+
+  /** Records the classes the given sources were just compiled to. */
+  private void addCompiledClasses(
+      ImmutableSortedSet<Path> compiledBatch,
+      Set<Path> existingClassFiles,
+      ImmutableMap<Path, String> sourceHashes)
+      throws FullCompilationRequiredException, IOException {
+    Map<Path, SortedSet<String>> classesBySource = new HashMap<>();
+    for (Path source : compiledBatch) {
+      classesBySource.put(source, new TreeSet<>());
+    }
+    for (Path classFile : Sets.difference(listClassFiles(), existingClassFiles)) {
+      classFilesWritten.add(classFile);
+      classFilesCompiled.add(classFile);
+      ClassFileSummary summary;
+      try (InputStream input = filesystem.newFileInputStream(classFile)) {
+        summary = ClassFileSummary.of(ByteStreams.toByteArray(input));
+      }
+      Path source = findSource(summary, compiledBatch);
+      if (source == null) {
+        throw new FullCompilationRequiredException(
+            "the source of " + summary.getName() + " is ambiguous");
+      }
+      classesBySource.get(source).add(summary.getName());
+      classes.put(summary.getName(), summary);
+    }
+    for (Map.Entry<Path, SortedSet<String>> entry : classesBySource.entrySet()) {
+      compiledSources.put(
+          entry.getKey(),
+          CompiledSourceFile.of(
+              sourceHashes.get(entry.getKey()), ImmutableSortedSet.copyOf(entry.getValue())));
+    }
+  }
+
+  /**
+   * Class files only record the name of their source file, so look for a source with that name in
+   * the directory matching the package of the class if there are several.
+   */
+  @Nullable
+  private static Path findSource(ClassFileSummary summary, Collection<Path> candidates) {
+    if (!summary.getSourceFileName().isPresent()) {
+      return null;
+    }
+    String fileName = summary.getSourceFileName().get();
+    List<Path> matches = new ArrayList<>();
+    for (Path candidate : candidates) {
+      if (candidate.getFileName().toString().equals(fileName)) {
+        matches.add(candidate);
+      }
+    }
+    if (matches.size() > 1) {
+      Path packagePath = Paths.get(getPackageName(summary.getName()));
+      matches.removeIf(
+          match -> match.getParent() == null || !match.getParent().endsWith(packagePath));
+    }
+    return matches.size() == 1 ? matches.get(0) : null;
+  }
+
+  private void saveState(Optional<IncrementalCompilationState> previousState) throws IOException {
+    Path stateFile = stateDirectory.resolve(STATE_FILE);
+    // Without a state file the next compilation compiles everything, which keeps a half written
+    // state from being used.
+    filesystem.deleteFileAtPathIfExists(stateFile);
+    if (compiledSources.isEmpty()) {
+      return;
+    }
+
+    Path classesDirectory = getClassesDirectory();
+    if (previousState.isPresent()) {
+      for (String className : previousState.get().getClasses().keySet()) {
+        if (!classes.containsKey(className)) {
+          filesystem.deleteFileAtPathIfExists(getClassFile(classesDirectory, className));
+        }
+      }
+    } else {
+      filesystem.deleteRecursivelyIfExists(classesDirectory);
+    }
+    for (Path classFile : classFilesCompiled) {
+      Path savedClassFile = classesDirectory.resolve(outputDirectory.relativize(classFile));
+      filesystem.createParentDirs(savedClassFile);
+      filesystem.copyFile(classFile, savedClassFile);
+    }
+
+    ImmutableSortedMap.Builder<String, CompiledSourceFile> sourcesState =
+        ImmutableSortedMap.naturalOrder();
+    for (Map.Entry<Path, CompiledSourceFile> entry : compiledSources.entrySet()) {
+      sourcesState.put(entry.getKey().toString(), entry.getValue());
+    }
+    IncrementalCompilationState state =
+        IncrementalCompilationState.builder()
+            .setOptions(options)
+            .setSources(sourcesState.build())
+            .setClasses(ImmutableSortedMap.copyOf(classes))
+            .setUsedClasspathClasses(getUsedClasspathClasses(previousState))
+            .build();
+    filesystem.mkdirs(stateDirectory);
+    ObjectMappers.WRITER.writeValue(filesystem.resolve(stateFile).toFile(), state);
+  }
+
+  private ImmutableList<UsedClasspathClass> getUsedClasspathClasses(
+      Optional<IncrementalCompilationState> previousState) throws IOException {
+    Map<String, UsedClasspathClass> previousUsedClasses = new HashMap<>();
+    if (previousState.isPresent()) {
+      for (UsedClasspathClass usedClass : previousState.get().getUsedClasspathClasses()) {
+        previousUsedClasses.put(usedClass.getJar() + "!/" + usedClass.getPath(), usedClass);
+      }
+    }
+
+    ImmutableList.Builder<UsedClasspathClass> usedClasses = ImmutableList.builder();
+    for (Map.Entry<Path, Collection<Path>> entry :
+        classUsageFileWriter.getClassUsageMap().asMap().entrySet()) {
+      String jar = entry.getKey().toString();
+      try (ZipFile zipFile = new ZipFile(entry.getKey().toFile())) {
+        for (Path path : entry.getValue()) {
+          String entryName = path.toString().replace('\\', '/');
+          ZipEntry zipEntry = zipFile.getEntry(entryName);
+          if (zipEntry == null) {
+            continue;
+          }
+          UsedClasspathClass previousUsedClass = previousUsedClasses.get(jar + "!/" + entryName);
+          if (previousUsedClass != null && previousUsedClass.getCrc() == zipEntry.getCrc()) {
+            usedClasses.add(previousUsedClass);
+          } else {
+            usedClasses.add(
+                UsedClasspathClass.of(
+                    jar,
+                    entryName,
+                    zipEntry.getCrc(),
+                    readClassFile(zipFile, zipEntry).getConstantsHash()));
+          }
+        }
+      }
+    }
+    return usedClasses.build();
+  }
+
+  private static ImmutableSetMultimap<Path, Path> toClassUsageMap(
+      IncrementalCompilationState state) {
+    ImmutableSetMultimap.Builder<Path, Path> classUsage = ImmutableSetMultimap.builder();
+    for (UsedClasspathClass usedClass : state.getUsedClasspathClasses()) {
+      classUsage.put(Paths.get(usedClass.getJar()), Paths.get(usedClass.getPath()));
+    }
+    return classUsage.build();
+  }
+
+  private Optional<IncrementalCompilationState> readState() {
+    Path stateFile = filesystem.resolve(stateDirectory.resolve(STATE_FILE));
+    if (!Files.isRegularFile(stateFile)) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(ObjectMappers.readValue(stateFile, IncrementalCompilationState.class));
+    } catch (IOException e) {
+      LOG.warn(e, "Unable to read %s, compiling all sources.", stateFile);
+      return Optional.empty();
+    }
+  }
+
+  private ImmutableMap<Path, String> hashSources() throws IOException {
+    ImmutableMap.Builder<Path, String> hashes = ImmutableMap.builder();
+    for (Path source : sources) {
+      hashes.put(source, filesystem.computeSha1(source).getHash());
+    }
+    return hashes.build();
+  }
+
+  private Set<Path> listClassFiles() throws IOException {
+    if (!filesystem.isDirectory(outputDirectory)) {
+      return ImmutableSet.of();
+    }
+    return filesystem.getFilesUnderPath(
+        outputDirectory, path -> path.toString().endsWith(CLASS_FILE_EXTENSION));
+  }
+
+  private Path getClassesDirectory() {
+    return stateDirectory.resolve(CLASSES_DIRECTORY);
+  }
+
+  private static Path getClassFile(Path directory, String className) {
+    return directory.resolve(className + CLASS_FILE_EXTENSION);
+  }
+
+  private static String getClassName(String classFilePath) {
+    return classFilePath.substring(0, classFilePath.length() - CLASS_FILE_EXTENSION.length());
+  }
+
+  private static String getPackageName(String className) {
+    int lastSlash = className.lastIndexOf('/');
+    return lastSlash < 0 ? "" : className.substring(0, lastSlash);
+  }
+
+  private static String getSimpleName(String className) {
+    String name = className.substring(className.lastIndexOf('/') + 1);
+    return name.substring(name.lastIndexOf('$') + 1);
+  }
+
+  private static ClassFileSummary readClassFile(ZipFile zipFile, ZipEntry zipEntry)
+      throws IOException {
+    try (InputStream input = zipFile.getInputStream(zipEntry)) {
+      return ClassFileSummary.of(ByteStreams.toByteArray(input));
+    }
+  }
+
+  /** Thrown when the sources affected by a change can't be told apart from the others. */
+  private static class FullCompilationRequiredException extends Exception {
+    FullCompilationRequiredException(String reason) {
+      super(reason);
+    }
+  }
+}
@@ -88,6 +88,10 @@ public class JavaBuckConfig implements ConfigView<BuckConfig> {
         delegate.getListWithoutComments(SECTION, "safe_annotation_processors");
 
     builder.setTrackClassUsage(trackClassUsage());
+    builder.setIncrementalCompilation(
+        delegate.getBooleanValue(SECTION, "incremental_compilation", false));
+    builder.setShouldIndexClasspathJars(
+        delegate.getBooleanValue(SECTION, "index_classpath_jars", true));
 
     Optional<AbstractJavacOptions.SpoolMode> spoolMode =
         delegate.getEnum(SECTION, "jar_spool_mode", AbstractJavacOptions.SpoolMode.class);
@@ -636,6 +636,11 @@ public class JavaTest extends AbstractBuildRuleWithDeclaredAndExtraDeps
     return false;
   }
 
+  @Override
+  public boolean supportsCachingTestResults() {
+    return true;
+  }
+
   @Override
   public ExternalTestRunnerTestSpec getExternalTestRunnerSpec(
       ExecutionContext executionContext, TestRunningOptions options, BuildContext buildContext) {
@@ -49,6 +49,7 @@ public class JavacExecutionContextSerializer {
   private static final String PROCESS_EXECUTOR = "process_executor";
   private static final String ABSOLUTE_PATHS_FOR_INPUTS = "absolute_paths_for_inputs";
   private static final String DIRECT_TO_JAR_PARAMETERS = "direct_to_jar_parameters";
+  private static final String INDEX_CLASSPATH_JARS = "index_classpath_jars";
 
   public static ImmutableMap<String, Object> serialize(JavacExecutionContext context) {
     ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
@@ -74,6 +75,7 @@ public class JavacExecutionContextSerializer {
           DIRECT_TO_JAR_PARAMETERS,
           JarParametersSerializer.serialize(context.getDirectToJarParameters().get()));
     }
+    builder.put(INDEX_CLASSPATH_JARS, context.shouldIndexClasspathJars());
 
     return builder.build();
   }
@@ -143,6 +145,7 @@ public class JavacExecutionContextSerializer {
                 "Missing environment when deserializing JavacExectionContext"),
         processExecutor,
         absolutePathsForInputs,
-        directToJarParameters);
+        directToJarParameters,
+        (boolean) Preconditions.checkNotNull(data.get(INDEX_CLASSPATH_JARS)));
   }
 }
@@ -68,6 +68,8 @@ public class JavacStep implements Step {
 
   @Nullable private final Path abiJar;
 
+  private final Optional<Path> incrementalStateDirectory;
+
   public JavacStep(
       ClassUsageFileWriter usedClassesFileWriter,
       Javac javac,
@@ -79,6 +81,36 @@ public class JavacStep implements Step {
       CompilerParameters compilerParameters,
       Optional<JarParameters> jarParameters,
       @Nullable Path abiJar) {
+    this(
+        usedClassesFileWriter,
+        javac,
+        javacOptions,
+        invokingRule,
+        resolver,
+        filesystem,
+        classpathChecker,
+        compilerParameters,
+        jarParameters,
+        abiJar,
+        Optional.empty());
+  }
+
+  /**
+   * @param incrementalStateDirectory where the state of incremental compilations is kept, if the
+   *     library may be compiled incrementally. See {@link IncrementalJavacCompilation}.
+   */
+  public JavacStep(
+      ClassUsageFileWriter usedClassesFileWriter,
+      Javac javac,
+      JavacOptions javacOptions,
+      BuildTarget invokingRule,
+      SourcePathResolver resolver,
+      ProjectFilesystem filesystem,
+      ClasspathChecker classpathChecker,
+      CompilerParameters compilerParameters,
+      Optional<JarParameters> jarParameters,
+      @Nullable Path abiJar,
+      Optional<Path> incrementalStateDirectory) {
     this.usedClassesFileWriter = usedClassesFileWriter;
     this.javacOptions = javacOptions;
     this.javac = javac;
@@ -89,6 +121,7 @@ public class JavacStep implements Step {
     this.compilerParameters = compilerParameters;
     this.jarParameters = jarParameters;
     this.abiJar = abiJar;
+    this.incrementalStateDirectory = incrementalStateDirectory;
   }
 
   @Override
@@ -119,7 +152,8 @@ public class JavacStep implements Step {
               firstOrderContext.getEnvironment(),
               firstOrderContext.getProcessExecutor(),
               getAbsolutePathsForJavacInputs(getJavac()),
-              jarParameters);
+              jarParameters,
+              javacOptions.shouldIndexClasspathJars());
       ImmutableList<JavacPluginJsr199Fields> pluginFields =
           ImmutableList.copyOf(
               javacOptions
@@ -132,24 +166,44 @@ public class JavacStep implements Step {
       String firstOrderStdout;
       String firstOrderStderr;
       Optional<String> returnedStderr;
-      try (Javac.Invocation invocation =
-          getJavac()
-              .newBuildInvocation(
-                  javacExecutionContext,
-                  invokingRule,
-                  getOptions(context, compilerParameters.getClasspathEntries()),
-                  pluginFields,
-                  compilerParameters.getSourceFilePaths(),
-                  compilerParameters.getPathToSourcesList(),
-                  compilerParameters.getWorkingDirectory(),
-                  compilerParameters.getAbiGenerationMode(),
-                  compilerParameters.getSourceOnlyAbiRuleInfo())) {
-        if (abiJar != null) {
-          declaredDepsBuildResult =
-              invocation.buildSourceAbiJar(
-                  this.filesystem.resolve(Preconditions.checkNotNull(abiJar)));
-        } else {
-          declaredDepsBuildResult = invocation.buildClasses();
+      if (canCompileIncrementally(pluginFields)) {
+        declaredDepsBuildResult =
+            new IncrementalJavacCompilation(
+                    filesystem,
+                    incrementalStateDirectory.get(),
+                    compilerParameters.getOutputDirectory(),
+                    compilerParameters.getSourceFilePaths(),
+                    compilerParameters.getClasspathEntries(),
+                    getOptions(context, compilerParameters.getClasspathEntries()),
+                    (DefaultClassUsageFileWriter) usedClassesFileWriter)
+                .compile(
+                    (sourceFilePaths, classpathEntries) ->
+                        buildClasses(
+                            javacExecutionContext,
+                            getOptions(context, classpathEntries),
+                            pluginFields,
+                            sourceFilePaths),
+                    firstOrderContext.getCellPathResolver());
+      } else {
+        try (Javac.Invocation invocation =
+            getJavac()
+                .newBuildInvocation(
+                    javacExecutionContext,
+                    invokingRule,
+                    getOptions(context, compilerParameters.getClasspathEntries()),
+                    pluginFields,
+                    compilerParameters.getSourceFilePaths(),
+                    compilerParameters.getPathToSourcesList(),
+                    compilerParameters.getWorkingDirectory(),
+                    compilerParameters.getAbiGenerationMode(),
+                    compilerParameters.getSourceOnlyAbiRuleInfo())) {
+          if (abiJar != null) {
+            declaredDepsBuildResult =
+                invocation.buildSourceAbiJar(
+                    this.filesystem.resolve(Preconditions.checkNotNull(abiJar)));
+          } else {
+            declaredDepsBuildResult = invocation.buildClasses();
+          }
         }
       }
       firstOrderStdout = stdout.getContentsAsString(Charsets.UTF_8);
@@ -164,6 +218,41 @@ public class JavacStep implements Step {
     }
   }
 
+  /**
+   * Only classes compiled by javac itself can be compiled incrementally: annotation processors and
+   * plugins may generate code from any of the sources, and class usage is only tracked in process.
+   */
+  private boolean canCompileIncrementally(ImmutableList<JavacPluginJsr199Fields> pluginFields) {
+    return incrementalStateDirectory.isPresent()
+        && abiJar == null
+        && !jarParameters.isPresent()
+        && pluginFields.isEmpty()
+        && javac instanceof Jsr199Javac
+        && usedClassesFileWriter instanceof DefaultClassUsageFileWriter;
+  }
+
+  private int buildClasses(
+      JavacExecutionContext javacExecutionContext,
+      ImmutableList<String> options,
+      ImmutableList<JavacPluginJsr199Fields> pluginFields,
+      ImmutableSortedSet<Path> sourceFilePaths)
+      throws InterruptedException {
+    try (Javac.Invocation invocation =
+        getJavac()
+            .newBuildInvocation(
+                javacExecutionContext,
+                invokingRule,
+                options,
+                pluginFields,
+                sourceFilePaths,
+                compilerParameters.getPathToSourcesList(),
+                compilerParameters.getWorkingDirectory(),
+                compilerParameters.getAbiGenerationMode(),
+                compilerParameters.getSourceOnlyAbiRuleInfo())) {
+      return invocation.buildClasses();
+    }
+  }
+
   private Optional<String> processBuildFailure(
       BuckEventBus buckEventBus, String firstOrderStdout, String firstOrderStderr) {
     ImmutableList.Builder<String> errorMessage = ImmutableList.builder();
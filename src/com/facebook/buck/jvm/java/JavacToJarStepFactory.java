@@ -90,7 +90,10 @@ public class JavacToJarStepFactory extends CompileToJarStepFactory implements Ad
             new ClasspathChecker(),
             parameters,
             Optional.empty(),
-            parameters.shouldGenerateAbiJar() ? parameters.getAbiJarPath() : null));
+            parameters.shouldGenerateAbiJar() ? parameters.getAbiJarPath() : null,
+            javacOptions.isIncrementalCompilation()
+                ? Optional.of(CompilerParameters.getIncrementalStateDir(invokingRule, filesystem))
+                : Optional.empty()));
   }
 
   @Override
@@ -135,11 +138,13 @@ public class JavacToJarStepFactory extends CompileToJarStepFactory implements Ad
     // (1) It must be enabled through a .buckconfig.
     // (2) The target must have 0 postprocessing steps.
     // (3) Tha compile API must be JSR 199.
+    // (4) Incremental compilation must be disabled, it keeps the classes of the last compilation.
     boolean isSpoolingToJarEnabled =
         compilerParameters.getAbiGenerationMode().isSourceAbi()
             || (postprocessClassesCommands.isEmpty()
                 && javacOptions.getSpoolMode() == AbstractJavacOptions.SpoolMode.DIRECT_TO_JAR
-                && javac instanceof Jsr199Javac);
+                && javac instanceof Jsr199Javac
+                && !javacOptions.isIncrementalCompilation());
 
     LOG.info(
         "Target: %s SpoolMode: %s Expected SpoolMode: %s Postprocessing steps: %s",
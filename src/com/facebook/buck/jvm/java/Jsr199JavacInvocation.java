@@ -311,7 +311,9 @@ class Jsr199JavacInvocation implements Javac.Invocation {
       JavaCompiler compiler = compilerConstructor.apply(context);
 
       StandardJavaFileManager standardFileManager =
-          compiler.getStandardFileManager(null, null, null);
+          context.shouldIndexClasspathJars()
+              ? ClasspathJarIndexCache.getSharedInstance().create(compiler)
+              : compiler.getStandardFileManager(null, null, null);
       addCloseable(standardFileManager);
 
       StandardJavaFileManager fileManager;
@@ -29,6 +29,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 import org.immutables.value.Value;
 
@@ -233,6 +234,18 @@ abstract class AbstractParserConfig implements ConfigView<BuckConfig> {
     return getDelegate().getValue("parser", "python_path");
   }
 
+  /**
+   * @return the directory in which the raw nodes of parsed build files are cached across daemon
+   *     restarts, if enabled. Entries don't depend on the location of the checkout, so this may be
+   *     a directory shared between machines.
+   */
+  @Value.Lazy
+  public Optional<Path> getRawNodeCacheDir() {
+    return getDelegate()
+        .getValue("parser", "raw_node_cache_dir")
+        .map(dir -> getDelegate().resolveNonNullPathOutsideTheProjectFilesystem(Paths.get(dir)));
+  }
+
   /**
    * Indicates whether globals imported by {@code include_defs} should be "frozen", which means they
    * will be converted into their read-only counterparts. This can be used to detect accidental
@@ -23,6 +23,7 @@ import com.facebook.buck.model.UnflavoredBuildTarget;
 import com.facebook.buck.parser.thrift.BuildFileEnvProperty;
 import com.facebook.buck.parser.thrift.RemoteDaemonicCellState;
 import com.facebook.buck.rules.Cell;
+import com.facebook.buck.rules.TargetNode;
 import com.facebook.buck.util.MoreCollectors;
 import com.facebook.buck.util.ObjectMappers;
 import com.facebook.buck.util.concurrent.AutoCloseableLock;
@@ -80,6 +81,9 @@ class DaemonicCellState {
             target);
         if (updatedNode.equals(targetNode)) {
           targetsCornucopia.put(target.getUnflavoredBuildTarget(), target);
+          if (targetNode instanceof TargetNode) {
+            addToTargetNodeIndex((TargetNode<?, ?>) targetNode);
+          }
         }
         return updatedNode;
       }
@@ -109,6 +113,14 @@ class DaemonicCellState {
   @GuardedBy("rawAndComputedNodesLock")
   private final ConcurrentMap<Class<?>, CacheImpl<?>> typedNodeCaches;
 
+  // Indexes over the cached target nodes, which answer queries for the dependents and the owners
+  // of a target without building a graph.  Entries are added and removed along with the nodes.
+  @GuardedBy("rawAndComputedNodesLock")
+  private final SetMultimap<BuildTarget, BuildTarget> reverseDeps;
+
+  @GuardedBy("rawAndComputedNodesLock")
+  private final SetMultimap<Path, BuildTarget> inputOwners;
+
   private final AutoCloseableReadWriteUpdateLock rawAndComputedNodesLock;
   private final int parsingThreads;
 
@@ -123,6 +135,8 @@ class DaemonicCellState {
     this.allRawNodes = new ConcurrentMapCache<>(parsingThreads);
     this.allRawNodeTargets = new HashSet<>();
     this.typedNodeCaches = Maps.newConcurrentMap();
+    this.reverseDeps = HashMultimap.create();
+    this.inputOwners = HashMultimap.create();
     this.rawAndComputedNodesLock = new AutoCloseableReadWriteUpdateLock();
   }
 
@@ -187,6 +201,59 @@ class DaemonicCellState {
     }
   }
 
+  /** @return the cached targets of this cell which list {@code target} as a parse dep. */
+  ImmutableSet<BuildTarget> getReverseDeps(BuildTarget target) {
+    try (AutoCloseableLock readLock = rawAndComputedNodesLock.readLock()) {
+      return ImmutableSet.copyOf(reverseDeps.get(target));
+    }
+  }
+
+  /**
+   * @return the cached targets of this cell which have {@code path}, or one of the directories
+   *     containing it, as an input.
+   */
+  ImmutableSet<BuildTarget> getInputOwners(Path path) {
+    Preconditions.checkArgument(!path.isAbsolute(), "%s should be relative to the cell", path);
+    ImmutableSet.Builder<BuildTarget> owners = ImmutableSet.builder();
+    try (AutoCloseableLock readLock = rawAndComputedNodesLock.readLock()) {
+      for (Path input = path; input != null; input = input.getParent()) {
+        owners.addAll(inputOwners.get(input));
+      }
+    }
+    return owners.build();
+  }
+
+  @GuardedBy("rawAndComputedNodesLock")
+  private void addToTargetNodeIndex(TargetNode<?, ?> node) {
+    for (BuildTarget dep : node.getParseDeps()) {
+      reverseDeps.put(dep, node.getBuildTarget());
+    }
+    for (Path input : node.getInputs()) {
+      inputOwners.put(input, node.getBuildTarget());
+    }
+  }
+
+  @GuardedBy("rawAndComputedNodesLock")
+  private void removeFromTargetNodeIndex(Iterable<BuildTarget> targets) {
+    CacheImpl<?> cache = typedNodeCaches.get(TargetNode.class);
+    if (cache == null) {
+      return;
+    }
+    for (BuildTarget target : targets) {
+      Object node = cache.allComputedNodes.getIfPresent(target);
+      if (!(node instanceof TargetNode)) {
+        continue;
+      }
+      TargetNode<?, ?> targetNode = (TargetNode<?, ?>) node;
+      for (BuildTarget dep : targetNode.getParseDeps()) {
+        reverseDeps.remove(dep, target);
+      }
+      for (Path input : targetNode.getInputs()) {
+        inputOwners.remove(input, target);
+      }
+    }
+  }
+
   int invalidatePath(Path path) {
     try (AutoCloseableLock writeLock = rawAndComputedNodesLock.writeLock()) {
       int invalidatedRawNodes = 0;
@@ -199,6 +266,7 @@ class DaemonicCellState {
               RawNodeParsePipeline.parseBuildTargetFromRawRule(
                   cellRoot, cellCanonicalName, rawNode, path);
           LOG.debug("Invalidating target for path %s: %s", path, target);
+          removeFromTargetNodeIndex(targetsCornucopia.get(target));
           for (CacheImpl<?> cache : typedNodeCaches.values()) {
             cache.allComputedNodes.invalidateAll(targetsCornucopia.get(target));
           }
@@ -361,6 +361,32 @@ public class DaemonicParserState {
     return rawNodeCache;
   }
 
+  /**
+   * @return the targets whose cached nodes list {@code target} as a parse dep, in any cell. Only
+   *     nodes which have been parsed since they were last invalidated are taken into account.
+   */
+  public ImmutableSet<BuildTarget> getCachedReverseDeps(BuildTarget target) {
+    ImmutableSet.Builder<BuildTarget> dependents = ImmutableSet.builder();
+    try (AutoCloseableLock readLock = cellStateLock.readLock()) {
+      for (DaemonicCellState state : cellPathToDaemonicState.values()) {
+        dependents.addAll(state.getReverseDeps(target));
+      }
+    }
+    return dependents.build();
+  }
+
+  /**
+   * @return the targets of {@code cell} whose cached nodes have {@code cellRelativePath}, or one of
+   *     the directories containing it, as an input.
+   */
+  public ImmutableSet<BuildTarget> getCachedInputOwners(Cell cell, Path cellRelativePath) {
+    DaemonicCellState state = getCellState(cell);
+    if (state == null) {
+      return ImmutableSet.of();
+    }
+    return state.getInputOwners(cellRelativePath);
+  }
+
   @Nullable
   private DaemonicCellState getCellState(Cell cell) {
     try (AutoCloseableLock readLock = cellStateLock.readLock()) {
@@ -28,6 +28,7 @@ import com.facebook.buck.graph.MutableDirectedGraph;
 import com.facebook.buck.io.WatchmanOverflowEvent;
 import com.facebook.buck.io.WatchmanPathEvent;
 import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuildFileTree;
 import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.BuildTargetException;
 import com.facebook.buck.model.Flavor;
@@ -571,6 +572,22 @@ public class Parser {
     return target.withFlavors(defaultFlavors);
   }
 
+  /**
+   * @return the build file tree of {@code cell}, which is kept across commands until a build file
+   *     is added or removed.
+   */
+  public BuildFileTree getBuildFileTree(Cell cell) {
+    return permState.getBuildFileTrees().getUnchecked(cell);
+  }
+
+  /**
+   * @return the targets of {@code cell} which have {@code cellRelativePath}, or one of the
+   *     directories containing it, as an input, among the target nodes parsed so far.
+   */
+  public ImmutableSet<BuildTarget> getCachedInputOwners(Cell cell, Path cellRelativePath) {
+    return permState.getCachedInputOwners(cell, cellRelativePath);
+  }
+
   public RemoteDaemonicParserState storeParserState() throws IOException {
     return getPermState().serialiseDaemonicParserState();
   }
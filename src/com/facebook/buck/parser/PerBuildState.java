@@ -21,6 +21,7 @@ import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.event.ParsingEvent;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuildFileTree;
 import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.BuildTargetException;
 import com.facebook.buck.parser.api.ProjectBuildFileParser;
@@ -120,7 +121,10 @@ public class PerBuildState implements AutoCloseable {
 
     this.rawNodeParsePipeline =
         new RawNodeParsePipeline(
-            parser.getPermState().getRawNodeCache(), projectBuildFileParserPool, executorService);
+            parser.getPermState().getRawNodeCache(),
+            projectBuildFileParserPool,
+            executorService,
+            parserConfig.getRawNodeCacheDir().map(PersistentRawNodeCache::new));
     this.targetNodeParsePipeline =
         new TargetNodeParsePipeline(
             parser.getPermState().getOrCreateNodeCache(TargetNode.class),
@@ -168,6 +172,18 @@ public class PerBuildState implements AutoCloseable {
     return targetNodeParsePipeline.getAllNodesJob(cell, buildFile, parseProcessedBytes);
   }
 
+  /**
+   * @return the targets whose nodes list {@code target} as a parse dep, among the target nodes
+   *     parsed so far by this or earlier commands.
+   */
+  public ImmutableSet<BuildTarget> getCachedReverseDeps(BuildTarget target) {
+    return parser.getPermState().getCachedReverseDeps(target);
+  }
+
+  public BuildFileTree getBuildFileTree(Cell cell) {
+    return parser.getBuildFileTree(cell);
+  }
+
   public ImmutableSet<Map<String, Object>> getAllRawNodes(Cell cell, Path buildFile)
       throws BuildFileParseException {
     Preconditions.checkState(buildFile.startsWith(cell.getRoot()));
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import com.facebook.buck.hashing.StringHashing;
+import com.facebook.buck.io.file.MorePaths;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuckVersion;
+import com.facebook.buck.rules.Cell;
+import com.facebook.buck.util.ObjectMappers;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+
+/**
+ * An on-disk cache of the raw nodes, including meta rules, produced by parsing a build file.
+ *
+ * <p>Unlike the caches in {@link DaemonicParserState}, entries survive daemon restarts. They don't
+ * refer to absolute paths inside the cell, so several checkouts or machines can share a cache
+ * directory.
+ *
+ * <p>Entries are keyed by the path of the build file within its cell, its contents, the parser
+ * settings and the Buck version. The includes, config values and environment variables read while
+ * parsing are recorded alongside the raw nodes and are checked before an entry is used. Since glob
+ * results end up in the raw nodes too, entries of build files which may call {@code glob} also
+ * record the listing of the files under the package.
+ */
+class PersistentRawNodeCache {
+  private static final Logger LOG = Logger.get(PersistentRawNodeCache.class);
+
+  private static final int FORMAT_VERSION = 1;
+
+  private static final String INCLUDES_META_RULE = "__includes";
+  private static final String CONFIGS_META_RULE = "__configs";
+  private static final String ENV_META_RULE = "__env";
+
+  private static final Pattern GLOB_IDENTIFIER =
+      Pattern.compile("^(?!\\s*#).*\\b(\\w+_)?glob\\b", Pattern.MULTILINE);
+
+  /** Config sections that change how build files are evaluated as a whole. */
+  private static final ImmutableSet<String> PARSER_SECTIONS =
+      ImmutableSet.of("buildfile", "parser", "project");
+
+  private static final TypeReference<Map<String, Object>> ENTRY_TYPE =
+      new TypeReference<Map<String, Object>>() {};
+
+  private final Path cacheDir;
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  PersistentRawNodeCache(Path cacheDir) {
+    Preconditions.checkArgument(cacheDir.isAbsolute());
+    this.cacheDir = cacheDir;
+  }
+
+  /**
+   * @return the key of the entry for the current contents of {@code buildFile}, or nothing if it
+   *     can't be read. The key has to be computed before the build file is parsed, so that an edit
+   *     made while parsing doesn't get stored under the key of the new contents.
+   */
+  Optional<HashCode> computeKey(Cell cell, Path buildFile) {
+    Preconditions.checkState(buildFile.isAbsolute());
+    Hasher hasher = Hashing.sha1().newHasher();
+    hasher.putInt(FORMAT_VERSION);
+    StringHashing.hashStringAndLength(hasher, BuckVersion.getVersion());
+    StringHashing.hashStringAndLength(
+        hasher, MorePaths.pathWithUnixSeparators(cell.getRoot().relativize(buildFile)));
+    try {
+      hasher.putBytes(cell.getFilesystem().computeSha1(buildFile).asHashCode().asBytes());
+    } catch (IOException e) {
+      LOG.debug(e, "Failed to hash %s, not using cached raw nodes.", buildFile);
+      return Optional.empty();
+    }
+    ImmutableMap<String, ImmutableMap<String, String>> config =
+        cell.getBuckConfig().getRawConfigForParser();
+    for (String section : ImmutableSortedSet.copyOf(PARSER_SECTIONS)) {
+      StringHashing.hashStringAndLength(hasher, section);
+      for (Map.Entry<String, String> entry :
+          ImmutableSortedMap.copyOf(config.getOrDefault(section, ImmutableMap.of())).entrySet()) {
+        StringHashing.hashStringAndLength(hasher, entry.getKey());
+        StringHashing.hashStringAndLength(hasher, entry.getValue());
+      }
+    }
+    return Optional.of(hasher.hash());
+  }
+
+  /**
+   * @return the raw nodes and meta rules stored under {@code key}, if there is an entry and the
+   *     includes, config values, environment variables and files it depends on didn't change.
+   */
+  @SuppressWarnings("unchecked")
+  Optional<ImmutableSet<Map<String, Object>>> lookup(Cell cell, HashCode key) {
+    Path entryPath = getEntryPath(key);
+    if (!Files.isRegularFile(entryPath)) {
+      missCount.incrementAndGet();
+      return Optional.empty();
+    }
+    try {
+      Map<String, Object> entry = ObjectMappers.readValue(entryPath, ENTRY_TYPE);
+      Map<String, String> includes =
+          Preconditions.checkNotNull((Map<String, String>) entry.get("includes"));
+      Map<String, Map<String, String>> configs =
+          Preconditions.checkNotNull((Map<String, Map<String, String>>) entry.get("configs"));
+      Map<String, String> env = Preconditions.checkNotNull((Map<String, String>) entry.get("env"));
+      String packageListing = (String) entry.get("packageListing");
+      List<Map<String, Object>> rawNodes =
+          Preconditions.checkNotNull((List<Map<String, Object>>) entry.get("rawNodes"));
+
+      Path buildFile = cell.getRoot().resolve((String) entry.get("buildFile"));
+      Optional<String> staleReason =
+          getStaleReason(cell, buildFile, includes, configs, env, packageListing);
+      if (staleReason.isPresent()) {
+        LOG.debug("Ignoring cached raw nodes of %s: %s changed.", buildFile, staleReason.get());
+        missCount.incrementAndGet();
+        return Optional.empty();
+      }
+
+      List<String> absoluteIncludes = new ArrayList<>(includes.size());
+      for (String include : includes.keySet()) {
+        absoluteIncludes.add(cell.getRoot().resolve(include).toString());
+      }
+      hitCount.incrementAndGet();
+      return Optional.of(
+          ImmutableSet.<Map<String, Object>>builder()
+              .addAll(rawNodes)
+              .add(ImmutableMap.of(INCLUDES_META_RULE, absoluteIncludes))
+              .add(ImmutableMap.of(CONFIGS_META_RULE, configs))
+              .add(ImmutableMap.of(ENV_META_RULE, env))
+              .build());
+    } catch (IOException | RuntimeException e) {
+      LOG.warn(e, "Failed to read cached raw nodes from %s.", entryPath);
+      missCount.incrementAndGet();
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Stores the raw nodes and meta rules produced by parsing the build file under {@code key}.
+   * Failures are logged and otherwise ignored, as the cache is only an optimization.
+   */
+  @SuppressWarnings("unchecked")
+  void store(Cell cell, Path buildFile, HashCode key, ImmutableSet<Map<String, Object>> rawNodes) {
+    Map<String, String> includes = new LinkedHashMap<>();
+    Map<String, Object> configs = ImmutableMap.of();
+    Map<String, Object> env = ImmutableMap.of();
+    List<Map<String, Object>> withoutMetaRules = new ArrayList<>(rawNodes.size());
+    try {
+      boolean mayUseGlobs = mayUseGlobs(buildFile);
+      for (Map<String, Object> rawNode : rawNodes) {
+        if (rawNode.containsKey(INCLUDES_META_RULE)) {
+          for (String include :
+              Preconditions.checkNotNull((Iterable<String>) rawNode.get(INCLUDES_META_RULE))) {
+            Path includePath = cell.getFilesystem().resolve(include);
+            includes.put(relativizeIfInCell(cell, includePath), hashFile(cell, includePath));
+            mayUseGlobs |= mayUseGlobs(includePath);
+          }
+        } else if (rawNode.containsKey(CONFIGS_META_RULE)) {
+          configs = (Map<String, Object>) rawNode.get(CONFIGS_META_RULE);
+        } else if (rawNode.containsKey(ENV_META_RULE)) {
+          env = (Map<String, Object>) rawNode.get(ENV_META_RULE);
+        } else {
+          withoutMetaRules.add(rawNode);
+        }
+      }
+
+      Map<String, Object> entry = new HashMap<>();
+      entry.put("buildFile", relativizeIfInCell(cell, buildFile));
+      entry.put("includes", includes);
+      entry.put("configs", configs);
+      entry.put("env", env);
+      entry.put("packageListing", mayUseGlobs ? hashPackageListing(cell, buildFile) : null);
+      entry.put("rawNodes", withoutMetaRules);
+
+      // Write to a unique temporary file and move it in place, so that concurrent writers sharing
+      // the cache directory never observe partially written entries.
+      Path entryPath = getEntryPath(key);
+      Files.createDirectories(entryPath.getParent());
+      Path tmpPath = Files.createTempFile(entryPath.getParent(), entryPath.getFileName() + ".", "");
+      try {
+        ObjectMappers.WRITER.writeValue(tmpPath.toFile(), entry);
+        Files.move(tmpPath, entryPath, StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tmpPath);
+      }
+    } catch (IOException | RuntimeException e) {
+      LOG.warn(e, "Failed to cache raw nodes of %s.", buildFile);
+    }
+  }
+
+  @VisibleForTesting
+  long getHitCount() {
+    return hitCount.get();
+  }
+
+  @VisibleForTesting
+  long getMissCount() {
+    return missCount.get();
+  }
+
+  private Optional<String> getStaleReason(
+      Cell cell,
+      Path buildFile,
+      Map<String, String> includes,
+      Map<String, Map<String, String>> configs,
+      Map<String, String> env,
+      @Nullable String packageListing)
+      throws IOException {
+    for (Map.Entry<String, String> include : includes.entrySet()) {
+      Path includePath = cell.getRoot().resolve(include.getKey());
+      if (!Files.isRegularFile(includePath)
+          || !include.getValue().equals(hashFile(cell, includePath))) {
+        return Optional.of("include " + include.getKey());
+      }
+    }
+
+    ImmutableMap<String, ImmutableMap<String, String>> currentConfig =
+        cell.getBuckConfig().getRawConfigForParser();
+    for (Map.Entry<String, Map<String, String>> section : configs.entrySet()) {
+      ImmutableMap<String, String> currentSection =
+          currentConfig.getOrDefault(section.getKey(), ImmutableMap.of());
+      for (Map.Entry<String, String> field : section.getValue().entrySet()) {
+        if (!Objects.equals(field.getValue(), currentSection.get(field.getKey()))) {
+          return Optional.of("config " + section.getKey() + "." + field.getKey());
+        }
+      }
+    }
+
+    ImmutableMap<String, String> currentEnv = cell.getBuckConfig().getEnvironment();
+    for (Map.Entry<String, String> variable : env.entrySet()) {
+      if (!Objects.equals(variable.getValue(), currentEnv.get(variable.getKey()))) {
+        return Optional.of("environment variable " + variable.getKey());
+      }
+    }
+
+    if (packageListing != null && !packageListing.equals(hashPackageListing(cell, buildFile))) {
+      return Optional.of("package listing");
+    }
+    return Optional.empty();
+  }
+
+  private Path getEntryPath(HashCode key) {
+    String keyString = key.toString();
+    return cacheDir.resolve(keyString.substring(0, 2)).resolve(keyString);
+  }
+
+  private static String relativizeIfInCell(Cell cell, Path path) {
+    return path.startsWith(cell.getRoot())
+        ? MorePaths.pathWithUnixSeparators(cell.getRoot().relativize(path))
+        : path.toString();
+  }
+
+  private static String hashFile(Cell cell, Path path) throws IOException {
+    return cell.getFilesystem().computeSha1(path).getHash();
+  }
+
+  /**
+   * Globs are evaluated by buck.py, so we can't tell which were called. Instead, assume that a
+   * build file which mentions them in neither itself nor any of its includes doesn't use them. Any
+   * identifier named {@code glob} or ending in {@code _glob}, such as {@code subdir_glob}, counts
+   * as a mention, unless it is on a line which is commented out as a whole.
+   */
+  private static boolean mayUseGlobs(Path file) throws IOException {
+    return GLOB_IDENTIFIER.matcher(new String(Files.readAllBytes(file), StandardCharsets.UTF_8))
+        .find();
+  }
+
+  /**
+   * Hashes the paths of all the files which a glob in {@code buildFile} could match. Like globs,
+   * this doesn't descend into subpackages, that is directories containing a build file of their
+   * own.
+   */
+  private static String hashPackageListing(Cell cell, Path buildFile) throws IOException {
+    ProjectFilesystem filesystem = cell.getFilesystem();
+    Path packagePath = cell.getRoot().relativize(MorePaths.getParentOrEmpty(buildFile));
+    String buildFileName = cell.getBuildFileName();
+    ImmutableSortedSet.Builder<Path> files = ImmutableSortedSet.naturalOrder();
+    filesystem.walkRelativeFileTree(
+        packagePath,
+        new SimpleFileVisitor<Path>() {
+          @Override
+          public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+            if (!dir.equals(packagePath) && filesystem.isFile(dir.resolve(buildFileName))) {
+              return FileVisitResult.SKIP_SUBTREE;
+            }
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            files.add(file);
+            return FileVisitResult.CONTINUE;
+          }
+        });
+    Hasher hasher = Hashing.sha1().newHasher();
+    for (Path path : files.build()) {
+      StringHashing.hashStringAndLength(hasher, MorePaths.pathWithUnixSeparators(path));
+    }
+    return hasher.hash().toString();
+  }
+}
@@ -36,15 +36,29 @@ public class RawNodeParsePipeline extends ParsePipeline<Map<String, Object>> {
   private final PipelineNodeCache<Path, ImmutableSet<Map<String, Object>>> cache;
   private final ListeningExecutorService executorService;
   private final ProjectBuildFileParserPool projectBuildFileParserPool;
+  private final Optional<PersistentRawNodeCache> persistentCache;
 
   public RawNodeParsePipeline(
       Cache<Path, ImmutableSet<Map<String, Object>>> cache,
       ProjectBuildFileParserPool projectBuildFileParserPool,
       ListeningExecutorService executorService) {
+    this(cache, projectBuildFileParserPool, executorService, Optional.empty());
+  }
+
+  /**
+   * @param persistentCache if present, consulted before a build file is parsed, and updated with
+   *     the raw nodes of every build file that had to be parsed.
+   */
+  RawNodeParsePipeline(
+      Cache<Path, ImmutableSet<Map<String, Object>>> cache,
+      ProjectBuildFileParserPool projectBuildFileParserPool,
+      ListeningExecutorService executorService,
+      Optional<PersistentRawNodeCache> persistentCache) {
     super();
     this.executorService = executorService;
     this.cache = new PipelineNodeCache<>(cache);
     this.projectBuildFileParserPool = projectBuildFileParserPool;
+    this.persistentCache = persistentCache;
   }
 
   /**
@@ -95,11 +109,45 @@ public class RawNodeParsePipeline extends ParsePipeline<Map<String, Object>> {
             return Futures.immediateCancelledFuture();
           }
 
+          if (persistentCache.isPresent()) {
+            return getAllRulesAndMetaRulesWithPersistentCache(
+                persistentCache.get(), cell, buildFile, processedBytes);
+          }
           return projectBuildFileParserPool.getAllRulesAndMetaRules(
               cell, buildFile, processedBytes, executorService);
         });
   }
 
+  private ListenableFuture<ImmutableSet<Map<String, Object>>>
+      getAllRulesAndMetaRulesWithPersistentCache(
+          PersistentRawNodeCache persistentCache,
+          Cell cell,
+          Path buildFile,
+          AtomicLong processedBytes) {
+    return Futures.transformAsync(
+        executorService.submit(() -> persistentCache.computeKey(cell, buildFile)),
+        key -> {
+          if (!key.isPresent()) {
+            return projectBuildFileParserPool.getAllRulesAndMetaRules(
+                cell, buildFile, processedBytes, executorService);
+          }
+          Optional<ImmutableSet<Map<String, Object>>> cachedRawNodes =
+              persistentCache.lookup(cell, key.get());
+          if (cachedRawNodes.isPresent()) {
+            return Futures.immediateFuture(cachedRawNodes.get());
+          }
+          return Futures.transform(
+              projectBuildFileParserPool.getAllRulesAndMetaRules(
+                  cell, buildFile, processedBytes, executorService),
+              rawNodes -> {
+                persistentCache.store(cell, buildFile, key.get(), rawNodes);
+                return rawNodes;
+              },
+              executorService);
+        },
+        executorService);
+  }
+
   @Override
   public ListenableFuture<Map<String, Object>> getNodeJob(
       final Cell cell, final BuildTarget buildTarget, AtomicLong processedBytes)
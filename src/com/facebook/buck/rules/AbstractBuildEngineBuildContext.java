@@ -16,6 +16,7 @@
 package com.facebook.buck.rules;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactContainerFormat;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.model.BuildId;
@@ -47,6 +48,12 @@ abstract class AbstractBuildEngineBuildContext {
     return false;
   }
 
+  /** The container format build rule outputs are packed into before they are cached. */
+  @Value.Default
+  public ArtifactContainerFormat getArtifactContainerFormat() {
+    return ArtifactContainerFormat.ZIP;
+  }
+
   /**
    * Creates an {@link OnDiskBuildInfo}.
    *
@@ -72,7 +79,8 @@ abstract class AbstractBuildEngineBuildContext {
         buildInfoStore,
         getClock(),
         getBuildId(),
-        ImmutableMap.copyOf(getEnvironment()));
+        ImmutableMap.copyOf(getEnvironment()),
+        getArtifactContainerFormat());
   }
 
   public final BuckEventBus getEventBus() {
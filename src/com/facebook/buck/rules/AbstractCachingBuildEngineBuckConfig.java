@@ -18,8 +18,10 @@ package com.facebook.buck.rules;
 import com.facebook.buck.config.BuckConfig;
 import com.facebook.buck.config.ConfigView;
 import com.facebook.buck.config.resources.ResourcesConfig;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.util.immutables.BuckStyleTuple;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.immutables.value.Value;
 
 @Value.Immutable
@@ -72,11 +74,50 @@ abstract class AbstractCachingBuildEngineBuckConfig implements ConfigView<BuckCo
     return getDelegate().getLong("build", "input_rule_key_file_size_limit").orElse(Long.MAX_VALUE);
   }
 
+  /**
+   * @return the estimator the build engine schedules rules by their critical path with, if enabled.
+   *     The estimates come from the rule durations recorded by earlier builds in {@code
+   *     filesystem}.
+   */
+  public Optional<BuildRuleDurationEstimator> getCriticalPathDurationEstimator(
+      ProjectFilesystem filesystem) {
+    return getCriticalPathDurationEstimator(() -> BuildRuleDurationHistory.load(filesystem));
+  }
+
+  /**
+   * @return the estimator the build engine schedules rules by their critical path with, if enabled.
+   *     The estimates come from the given history, which is only read when enabled.
+   */
+  public Optional<BuildRuleDurationEstimator> getCriticalPathDurationEstimator(
+      Supplier<BuildRuleDurationHistory> history) {
+    if (!getDelegate().getBooleanValue("build", "critical_path_scheduling", false)) {
+      return Optional.empty();
+    }
+    return Optional.of(new BuildRuleDurationEstimator(history.get()));
+  }
+
   public ResourceAwareSchedulingInfo getResourceAwareSchedulingInfo() {
     ResourcesConfig resourcesConfig = getDelegate().getView(ResourcesConfig.class);
     return ResourceAwareSchedulingInfo.of(
         resourcesConfig.isResourceAwareSchedulingEnabled(),
         resourcesConfig.getDefaultResourceAmounts(),
-        resourcesConfig.getResourceAmountsPerRuleType());
+        resourcesConfig.getResourceAmountsPerRuleType(),
+        Optional.empty());
+  }
+
+  /**
+   * Like {@link #getResourceAwareSchedulingInfo()}, but if enabled, rules are scheduled with the
+   * resource amounts they were measured to use by earlier builds in {@code filesystem}.
+   */
+  public ResourceAwareSchedulingInfo getResourceAwareSchedulingInfo(ProjectFilesystem filesystem) {
+    ResourcesConfig resourcesConfig = getDelegate().getView(ResourcesConfig.class);
+    if (!resourcesConfig.isAdaptiveResourceAmountsEnabled()) {
+      return getResourceAwareSchedulingInfo();
+    }
+    return getResourceAwareSchedulingInfo()
+        .withMeasuredResourceEstimator(
+            new BuildRuleResourceEstimator(
+                BuildRuleResourceHistory.load(filesystem),
+                resourcesConfig.getAdaptiveResourceAmountsSafetyMarginPercent()));
   }
 }
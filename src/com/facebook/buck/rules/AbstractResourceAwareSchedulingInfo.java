@@ -20,6 +20,7 @@ import com.facebook.buck.util.concurrent.ResourceAmountsEstimator;
 import com.facebook.buck.util.immutables.BuckStyleTuple;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import java.util.Optional;
 import org.immutables.value.Value;
 
 @Value.Immutable
@@ -28,7 +29,7 @@ abstract class AbstractResourceAwareSchedulingInfo {
 
   public static final ResourceAwareSchedulingInfo NON_AWARE_SCHEDULING_INFO =
       ResourceAwareSchedulingInfo.of(
-          false, ResourceAmountsEstimator.DEFAULT_AMOUNTS, ImmutableMap.of());
+          false, ResourceAmountsEstimator.DEFAULT_AMOUNTS, ImmutableMap.of(), Optional.empty());
 
   public abstract boolean isResourceAwareSchedulingEnabled();
 
@@ -37,6 +38,13 @@ abstract class AbstractResourceAwareSchedulingInfo {
   /** Map from the value of {@link BuildRule#getType()} to the required resources. */
   public abstract ImmutableMap<String, ResourceAmounts> getAmountsPerRuleType();
 
+  /**
+   * Estimates amounts from what rules used in earlier builds. The amounts measured for a rule
+   * itself take precedence over {@link #getAmountsPerRuleType()}, which in turn takes precedence
+   * over the amounts measured for its type.
+   */
+  public abstract Optional<BuildRuleResourceEstimator> getMeasuredResourceEstimator();
+
   public ResourceAmounts getResourceAmountsForRule(BuildRule rule) {
     if (isRuleResourceFree(rule)) {
       return ResourceAmounts.ZERO;
@@ -51,10 +59,20 @@ abstract class AbstractResourceAwareSchedulingInfo {
 
   private ResourceAmounts getResourceAmountsForRuleOrDefaultAmounts(BuildRule rule) {
     Preconditions.checkArgument(isResourceAwareSchedulingEnabled());
+    ResourceAmounts configuredAmounts =
+        getAmountsPerRuleType().getOrDefault(rule.getType(), getDefaultResourceAmounts());
+    if (!getMeasuredResourceEstimator().isPresent()) {
+      return configuredAmounts;
+    }
+    BuildRuleResourceEstimator estimator = getMeasuredResourceEstimator().get();
+    int networkIO = configuredAmounts.getNetworkIO();
+    Optional<ResourceAmounts> measuredAmounts = estimator.estimateAmountsForTarget(rule, networkIO);
+    if (measuredAmounts.isPresent()) {
+      return measuredAmounts.get();
+    }
     if (getAmountsPerRuleType().containsKey(rule.getType())) {
-      return getAmountsPerRuleType().get(rule.getType());
-    } else {
-      return getDefaultResourceAmounts();
+      return configuredAmounts;
     }
+    return estimator.estimateAmountsForType(rule, networkIO).orElse(configuredAmounts);
   }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Reads the values of the {@link AddToRuleKey} members declared by a single class without going
+ * through reflection.
+ *
+ * <p>Implementations are generated at compile time by {@code AddToRuleKeyProcessor} and live in
+ * the package of the class they read, named as {@link #getAccessorName(String)} says. Members which
+ * the generated code cannot read (e.g. static fields or private methods) are left out, and are read
+ * reflectively instead.
+ */
+public interface AddToRuleKeyAccessor {
+
+  String CLASS_NAME_SUFFIX = "_AddToRuleKeyAccessor";
+
+  /**
+   * @return the binary name of the accessor for the class with the given binary name: the same
+   *     package, and the class name with {@code '_'} doubled and {@code '$'} replaced by {@code
+   *     "_1"} followed by {@link #CLASS_NAME_SUFFIX}. Unlike only replacing {@code '$'}, this
+   *     never gives a nested class {@code Foo$Bar} and a class {@code Foo_Bar} the same accessor.
+   */
+  static String getAccessorName(String binaryName) {
+    int packageEnd = binaryName.lastIndexOf('.') + 1;
+    return binaryName.substring(0, packageEnd)
+        + binaryName.substring(packageEnd).replace("_", "__").replace("$", "_1")
+        + CLASS_NAME_SUFFIX;
+  }
+
+  /** @return the class whose members this accessor reads. */
+  Class<?> getTargetClass();
+
+  /**
+   * @return the names of the members this accessor reads, indexed by the member number passed to
+   *     {@link #getValue(int, Object)}. Method names are followed by {@code "()"}.
+   */
+  List<String> getMemberNames();
+
+  @Nullable
+  Object getValue(int member, Object instance);
+}
@@ -17,6 +17,7 @@
 package com.facebook.buck.rules;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactContainerFormat;
 import com.facebook.buck.artifact_cache.ArtifactUploader;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
@@ -83,6 +84,7 @@ public class BuildInfoRecorder {
   private final ImmutableMap<String, String> artifactExtraData;
   private final Map<String, String> metadataToWrite;
   private final Map<String, String> buildMetadata;
+  private final ArtifactContainerFormat artifactContainerFormat;
 
   /** Every value in this set is a path relative to the project root. */
   private final Set<Path> pathsToOutputs;
@@ -93,7 +95,8 @@ public class BuildInfoRecorder {
       BuildInfoStore buildInfoStore,
       Clock clock,
       BuildId buildId,
-      ImmutableMap<String, String> environment) {
+      ImmutableMap<String, String> environment,
+      ArtifactContainerFormat artifactContainerFormat) {
     this.buildTarget = buildTarget;
     this.pathToMetadataDirectory =
         BuildInfo.getPathToMetadataDirectory(buildTarget, projectFilesystem);
@@ -101,6 +104,7 @@ public class BuildInfoRecorder {
     this.buildInfoStore = buildInfoStore;
     this.clock = clock;
     this.buildId = buildId;
+    this.artifactContainerFormat = artifactContainerFormat;
 
     this.artifactExtraData =
         ImmutableMap.<String, String>builder()
@@ -263,7 +267,7 @@ public class BuildInfoRecorder {
   }
 
   /**
-   * Creates a zip file of the metadata and recorded artifacts and stores it in the artifact cache.
+   * Packs the metadata and recorded artifacts into a container and stores it in the artifact cache.
    */
   public ListenableFuture<Void> performUploadToArtifactCache(
       final ImmutableSet<RuleKey> ruleKeys,
@@ -291,7 +295,8 @@ public class BuildInfoRecorder {
         buildMetadata,
         pathsToIncludeInZip,
         buildTarget,
-        projectFilesystem);
+        projectFilesystem,
+        artifactContainerFormat);
   }
 
   /** @param pathToArtifact Relative path to the project root. */
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.facebook.buck.model.BuildTarget;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The estimated critical paths of the rules built by a {@link CachingBuildEngine}. The critical
+ * path of a rule is the time it takes to build it plus the longest critical path of the rules
+ * depending on it, up to the top level rules of the build. Starting the rules with the longest
+ * critical path first keeps long chains of rules from starting late while the build threads are
+ * busy with rules nothing is waiting for.
+ */
+class BuildRuleCriticalPaths {
+
+  private final RuleDepsCache ruleDeps;
+  private final BuildRuleDurationEstimator durationEstimator;
+  private final ConcurrentMap<BuildTarget, Long> criticalPathWallMillis =
+      new ConcurrentHashMap<>();
+  private final Map<BuildTarget, Long> estimatedWallMillis = new HashMap<>();
+  private final Map<BuildTarget, Integer> heights = new HashMap<>();
+
+  BuildRuleCriticalPaths(RuleDepsCache ruleDeps, BuildRuleDurationEstimator durationEstimator) {
+    this.ruleDeps = ruleDeps;
+    this.durationEstimator = durationEstimator;
+  }
+
+  /**
+   * Computes the critical paths of the rules needed to build {@code topLevelRule}. Rules which are
+   * also needed by top level rules added earlier keep the longest of their critical paths.
+   */
+  synchronized void addTopLevelRule(BuildRule topLevelRule) {
+    // Visit the rules in decreasing order of their height, so that all the dependents of a rule are
+    // visited before it. Only rules whose critical path grows are visited at all, which skips the
+    // parts of the graph already covered by the top level rules added earlier.
+    Map<BuildRule, Long> grownPaths = new HashMap<>();
+    PriorityQueue<BuildRule> toVisit =
+        new PriorityQueue<>(Comparator.comparingInt(this::getHeight).reversed());
+    if (growsPath(topLevelRule, estimateWallMillis(topLevelRule), grownPaths)) {
+      toVisit.add(topLevelRule);
+    }
+    while (!toVisit.isEmpty()) {
+      BuildRule rule = toVisit.remove();
+      long pathWallMillis = grownPaths.get(rule);
+      criticalPathWallMillis.put(rule.getBuildTarget(), pathWallMillis);
+      for (BuildRule dep : ruleDeps.get(rule)) {
+        boolean queued = grownPaths.containsKey(dep);
+        if (growsPath(dep, pathWallMillis + estimateWallMillis(dep), grownPaths) && !queued) {
+          toVisit.add(dep);
+        }
+      }
+    }
+  }
+
+  /** @return the estimated critical path of the rule, or 0 if it isn't part of the build. */
+  long getCriticalPathWallMillis(BuildRule rule) {
+    return criticalPathWallMillis.getOrDefault(rule.getBuildTarget(), 0L);
+  }
+
+  private long estimateWallMillis(BuildRule rule) {
+    return estimatedWallMillis.computeIfAbsent(
+        rule.getBuildTarget(), target -> durationEstimator.estimateWallMillis(rule));
+  }
+
+  private boolean growsPath(BuildRule rule, long pathWallMillis, Map<BuildRule, Long> grownPaths) {
+    long longestPath =
+        grownPaths.getOrDefault(
+            rule, criticalPathWallMillis.getOrDefault(rule.getBuildTarget(), -1L));
+    if (pathWallMillis <= longestPath) {
+      return false;
+    }
+    grownPaths.put(rule, pathWallMillis);
+    return true;
+  }
+
+  /**
+   * @return the length of the longest chain of deps below the rule, which is greater than the
+   *     height of any of its deps.
+   */
+  private int getHeight(BuildRule root) {
+    Integer rootHeight = heights.get(root.getBuildTarget());
+    if (rootHeight != null) {
+      return rootHeight;
+    }
+    // Iterative post-order depth-first traversal, dependency chains can be too long for recursion.
+    Deque<BuildRule> path = new ArrayDeque<>();
+    Deque<Iterator<BuildRule>> stack = new ArrayDeque<>();
+    path.push(root);
+    stack.push(ruleDeps.get(root).iterator());
+    while (!stack.isEmpty()) {
+      Iterator<BuildRule> deps = stack.peek();
+      if (deps.hasNext()) {
+        BuildRule dep = deps.next();
+        if (!heights.containsKey(dep.getBuildTarget())) {
+          path.push(dep);
+          stack.push(ruleDeps.get(dep).iterator());
+        }
+      } else {
+        stack.pop();
+        BuildRule rule = path.pop();
+        int height = 0;
+        for (BuildRule dep : ruleDeps.get(rule)) {
+          height = Math.max(height, heights.get(dep.getBuildTarget()) + 1);
+        }
+        heights.put(rule.getBuildTarget(), height);
+      }
+    }
+    return heights.get(root.getBuildTarget());
+  }
+}
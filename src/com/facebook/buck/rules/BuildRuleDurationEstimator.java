@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.OptionalLong;
+
+/**
+ * Estimates how long building a rule will take, for scheduling purposes.
+ *
+ * <p>Rules which were built before are estimated from their {@link BuildRuleDurationHistory}.
+ * Other rules are estimated from the average duration of the rules of the same type in the
+ * history, and failing that from a fixed per-type guess.
+ */
+public class BuildRuleDurationEstimator {
+
+  static final long DEFAULT_WALL_MILLIS = 1000;
+
+  // Rough guesses for rule types whose cost differs a lot from the default.
+  private static final ImmutableMap<String, Long> WALL_MILLIS_BY_TYPE =
+      ImmutableMap.<String, Long>builder()
+          .put("aapt_package_resources", 10_000L)
+          .put("android_binary", 60_000L)
+          .put("cxx_link", 5_000L)
+          .put("cxx_preprocess_compile", 2_000L)
+          .put("default_java_library", 5_000L)
+          .put("dex_produced_from_java_library", 2_000L)
+          .put("pre_dex_merge", 30_000L)
+          .put("symlink_tree", 50L)
+          .build();
+
+  private final BuildRuleDurationHistory history;
+
+  public BuildRuleDurationEstimator(BuildRuleDurationHistory history) {
+    this.history = history;
+  }
+
+  public long estimateWallMillis(BuildRule rule) {
+    OptionalLong wallMillis = history.getWallMillis(rule.getFullyQualifiedName());
+    if (wallMillis.isPresent()) {
+      return wallMillis.getAsLong();
+    }
+    wallMillis = history.getAverageWallMillis(rule.getType());
+    if (wallMillis.isPresent()) {
+      return wallMillis.getAsLong();
+    }
+    return WALL_MILLIS_BY_TYPE.getOrDefault(rule.getType(), DEFAULT_WALL_MILLIS);
+  }
+}
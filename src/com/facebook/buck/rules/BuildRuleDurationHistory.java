@@ -0,0 +1,127 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * How long build rules took to build locally in previous builds, as measured by {@link
+ * BuildRuleDurationTracker}. Used to estimate how long building them again will take.
+ *
+ * <p>The history is stored in {@link
+ * com.facebook.buck.io.filesystem.BuckPaths#getBuildRuleDurationsFile()}, one line per rule with
+ * its fully qualified name, type and wall time in milliseconds. Durations of rules built more than
+ * once are averaged with the previous value, so that a single slow or fast build does not replace
+ * the estimate entirely. The history remembers at most {@link #MAX_ENTRIES} rules, see {@link
+ * BuildRuleHistoryFile}.
+ */
+public class BuildRuleDurationHistory {
+  private static final String HEADER = "buck-rule-durations-v1";
+
+  /** The most rules the history remembers the durations of. */
+  public static final int MAX_ENTRIES = 100_000;
+
+  private final ImmutableMap<String, Entry> entries;
+  private final ImmutableMap<String, Long> averageWallMillisByType;
+
+  private BuildRuleDurationHistory(ImmutableMap<String, Entry> entries) {
+    this.entries = entries;
+
+    Map<String, long[]> totalsByType = new HashMap<>();
+    for (Entry entry : entries.values()) {
+      long[] total = totalsByType.computeIfAbsent(entry.type, type -> new long[2]);
+      total[0] += entry.wallMillis;
+      total[1]++;
+    }
+    ImmutableMap.Builder<String, Long> averages = ImmutableMap.builder();
+    totalsByType.forEach((type, total) -> averages.put(type, total[0] / total[1]));
+    this.averageWallMillisByType = averages.build();
+  }
+
+  public static BuildRuleDurationHistory empty() {
+    return new BuildRuleDurationHistory(ImmutableMap.of());
+  }
+
+  /** @return a history of the given durations, keyed by fully qualified target name. */
+  public static BuildRuleDurationHistory of(Map<String, Entry> durations) {
+    return new BuildRuleDurationHistory(ImmutableMap.copyOf(durations));
+  }
+
+  /** Reads the history of {@code filesystem}, or returns an empty one if it can't be read. */
+  public static BuildRuleDurationHistory load(ProjectFilesystem filesystem) {
+    return new BuildRuleDurationHistory(ImmutableMap.copyOf(getFile(filesystem).read()));
+  }
+
+  /**
+   * Merges the given durations, keyed by fully qualified target name, into the history of {@code
+   * filesystem}.
+   */
+  public static void update(ProjectFilesystem filesystem, Map<String, Entry> durations)
+      throws IOException {
+    update(filesystem, durations, MAX_ENTRIES);
+  }
+
+  @VisibleForTesting
+  static void update(ProjectFilesystem filesystem, Map<String, Entry> durations, int maxEntries)
+      throws IOException {
+    getFile(filesystem).update(durations, Entry::average, maxEntries);
+  }
+
+  private static BuildRuleHistoryFile<Entry> getFile(ProjectFilesystem filesystem) {
+    return new BuildRuleHistoryFile<>(
+        filesystem,
+        filesystem.getBuckPaths().getBuildRuleDurationsFile(),
+        HEADER,
+        2,
+        fields -> new Entry(fields.get(0), Long.parseLong(fields.get(1))),
+        entry -> ImmutableList.of(entry.type, entry.wallMillis));
+  }
+
+  /** @return the wall time the rule took to build previously. */
+  public OptionalLong getWallMillis(String fullyQualifiedName) {
+    Entry entry = entries.get(fullyQualifiedName);
+    return entry == null ? OptionalLong.empty() : OptionalLong.of(entry.wallMillis);
+  }
+
+  /** @return the average wall time rules of the given type took to build previously. */
+  public OptionalLong getAverageWallMillis(String ruleType) {
+    Long average = averageWallMillisByType.get(ruleType);
+    return average == null ? OptionalLong.empty() : OptionalLong.of(average);
+  }
+
+  /** The duration of a single rule. */
+  public static class Entry {
+    private final String type;
+    private final long wallMillis;
+
+    public Entry(String type, long wallMillis) {
+      this.type = type;
+      this.wallMillis = wallMillis;
+    }
+
+    private static Entry average(Entry previous, Entry latest) {
+      return new Entry(latest.type, (previous.wallMillis + latest.wallMillis) / 2);
+    }
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * A text file under {@code buck-out} holding a measurement per build rule from previous builds,
+ * shared by {@link BuildRuleDurationHistory} and {@link BuildRuleResourceHistory}.
+ *
+ * <p>The file starts with a header naming its format, followed by one tab separated line per rule
+ * with its fully qualified name and the fields of its measurement. Lines are kept in the order the
+ * rules were last measured in, and the rules which haven't been measured for the longest time are
+ * dropped once the file holds more than a maximum number of them, so that renamed and deleted
+ * targets don't pile up forever.
+ */
+class BuildRuleHistoryFile<T> {
+  private static final Logger LOG = Logger.get(BuildRuleHistoryFile.class);
+
+  private static final Splitter FIELD_SPLITTER = Splitter.on('\t');
+  private static final Joiner FIELD_JOINER = Joiner.on('\t');
+
+  private final ProjectFilesystem filesystem;
+  private final Path storePath;
+  private final String header;
+  private final int fieldCount;
+  private final Function<List<String>, T> parser;
+  private final Function<T, List<?>> formatter;
+
+  /**
+   * @param fieldCount the number of fields of a measurement, not counting the rule name.
+   * @param parser creates a measurement from its fields, and may throw {@link
+   *     NumberFormatException}.
+   * @param formatter returns the fields of a measurement, in the order {@code parser} takes them.
+   */
+  BuildRuleHistoryFile(
+      ProjectFilesystem filesystem,
+      Path storePath,
+      String header,
+      int fieldCount,
+      Function<List<String>, T> parser,
+      Function<T, List<?>> formatter) {
+    this.filesystem = filesystem;
+    this.storePath = storePath;
+    this.header = header;
+    this.fieldCount = fieldCount;
+    this.parser = parser;
+    this.formatter = formatter;
+  }
+
+  /**
+   * @return the measurements in the file keyed by fully qualified target name, least recently
+   *     measured first, or none if the file doesn't exist or can't be read.
+   */
+  Map<String, T> read() {
+    Map<String, T> entries = new LinkedHashMap<>();
+    if (!filesystem.isFile(storePath)) {
+      return entries;
+    }
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(
+                filesystem.newFileInputStream(storePath), StandardCharsets.UTF_8))) {
+      if (!header.equals(reader.readLine())) {
+        LOG.info("Ignoring rule history %s written in an unknown format.", storePath);
+        return entries;
+      }
+      String line;
+      while ((line = reader.readLine()) != null) {
+        List<String> fields = FIELD_SPLITTER.splitToList(line);
+        if (fields.size() != fieldCount + 1) {
+          throw new IOException("Malformed line: " + line);
+        }
+        entries.put(fields.get(0), parser.apply(fields.subList(1, fields.size())));
+      }
+    } catch (IOException | NumberFormatException e) {
+      LOG.warn(e, "Failed to read rule history %s, ignoring it.", storePath);
+      entries.clear();
+    }
+    return entries;
+  }
+
+  /**
+   * Merges the given measurements, keyed by fully qualified target name, into the file.
+   *
+   * @param merger combines the previous measurement of a rule with its latest one.
+   * @param maxEntries the most rules to keep in the file.
+   */
+  void update(Map<String, T> measurements, BinaryOperator<T> merger, int maxEntries)
+      throws IOException {
+    Map<String, T> entries = read();
+    measurements.forEach(
+        (target, entry) -> {
+          // Move the rule to the end, as the most recently measured one.
+          T previous = entries.remove(target);
+          entries.put(target, previous == null ? entry : merger.apply(previous, entry));
+        });
+    Iterator<String> oldestFirst = entries.keySet().iterator();
+    for (int excess = entries.size() - maxEntries; excess > 0; excess--) {
+      oldestFirst.next();
+      oldestFirst.remove();
+    }
+
+    // Write to a unique temporary file and move it in place, so that concurrent builds of the
+    // project never write to the same file or observe a partially written history.
+    filesystem.createParentDirs(storePath);
+    Path tmpPath =
+        filesystem.createTempFile(storePath.getParent(), storePath.getFileName() + ".", ".tmp");
+    try {
+      try (OutputStream stream = filesystem.newFileOutputStream(tmpPath);
+          PrintWriter out =
+              new PrintWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8))) {
+        out.println(header);
+        for (Map.Entry<String, T> entry : entries.entrySet()) {
+          out.print(entry.getKey());
+          out.print('\t');
+          out.println(FIELD_JOINER.join(formatter.apply(entry.getValue())));
+        }
+        if (out.checkError()) {
+          throw new IOException("Failed to write " + tmpPath);
+        }
+      }
+      filesystem.move(tmpPath, storePath, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      filesystem.deleteFileAtPathIfExists(tmpPath);
+    }
+    LOG.debug("Persisted the history of %d rules to %s.", entries.size(), storePath);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.facebook.buck.util.concurrent.ResourceAmounts;
+import com.facebook.buck.util.concurrent.ResourceAmountsEstimator;
+import java.util.Optional;
+
+/**
+ * Estimates the resource amounts building a rule will need from the resources its processes used
+ * in earlier builds, as recorded in the {@link BuildRuleResourceHistory}.
+ *
+ * <p>The CPU amount is the number of cores the processes kept busy on average. The memory amount
+ * is their peak resident memory and the disk IO amount their average throughput, both raised by a
+ * safety margin, as underestimating them can run the host out of memory or thrash its disk, while
+ * overestimating them merely costs some parallelism. Network IO isn't measured.
+ */
+public class BuildRuleResourceEstimator {
+
+  private final BuildRuleResourceHistory history;
+  private final double safetyFactor;
+
+  public BuildRuleResourceEstimator(BuildRuleResourceHistory history, int safetyMarginPercent) {
+    this.history = history;
+    this.safetyFactor = 1 + safetyMarginPercent / 100.0;
+  }
+
+  /** @return the amounts estimated from what the rule itself used previously. */
+  public Optional<ResourceAmounts> estimateAmountsForTarget(BuildRule rule, int networkIO) {
+    return history
+        .getEntry(rule.getFullyQualifiedName())
+        .map(entry -> toResourceAmounts(entry, networkIO));
+  }
+
+  /** @return the amounts estimated from what rules of the same type used on average previously. */
+  public Optional<ResourceAmounts> estimateAmountsForType(BuildRule rule, int networkIO) {
+    return history
+        .getAverageEntry(rule.getType())
+        .map(entry -> toResourceAmounts(entry, networkIO));
+  }
+
+  private ResourceAmounts toResourceAmounts(BuildRuleResourceHistory.Entry entry, int networkIO) {
+    long wallMillis = Math.max(1, entry.getWallMillis());
+    int cpu = (int) Math.max(1, Math.round((double) entry.getCpuMillis() / wallMillis));
+    double memoryUnits =
+        entry.getPeakMemoryBytes() * safetyFactor / ResourceAmountsEstimator.MEMORY_UNIT_BYTES;
+    double bytesPerSecond = entry.getIoBytes() * 1000.0 / wallMillis;
+    double diskIOUnits =
+        bytesPerSecond * safetyFactor / ResourceAmountsEstimator.DISK_IO_UNIT_BYTES_PER_SECOND;
+    return ResourceAmounts.of(cpu, toAmount(memoryUnits), toAmount(diskIOUnits), networkIO);
+  }
+
+  private static int toAmount(double units) {
+    return (int) Math.min(Integer.MAX_VALUE, Math.ceil(units));
+  }
+}
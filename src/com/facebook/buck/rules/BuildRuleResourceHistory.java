@@ -0,0 +1,193 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The resources the processes launched by build rules used in previous builds, as measured by
+ * {@link com.facebook.buck.util.perf.ProcessTracker}. Used to estimate the resource amounts
+ * building them again will need.
+ *
+ * <p>The history is stored in {@link
+ * com.facebook.buck.io.filesystem.BuckPaths#getBuildRuleResourcesFile()}, one line per rule with
+ * its fully qualified name, type, the CPU time and wall time its processes took in milliseconds,
+ * the peak resident memory of its processes and the bytes they read and wrote. Like {@link
+ * BuildRuleDurationHistory}, measurements of rules built more than once are averaged with the
+ * previous ones, except that a higher peak memory replaces the previous one right away, as running
+ * out of memory is far more expensive than reserving too much of it. The history remembers at most
+ * {@link #MAX_ENTRIES} rules, see {@link BuildRuleHistoryFile}.
+ */
+public class BuildRuleResourceHistory {
+  private static final String HEADER = "buck-rule-resources-v1";
+
+  /** The most rules the history remembers the resources of. */
+  public static final int MAX_ENTRIES = BuildRuleDurationHistory.MAX_ENTRIES;
+
+  private final ImmutableMap<String, Entry> entries;
+  private final ImmutableMap<String, Entry> averageEntriesByType;
+
+  private BuildRuleResourceHistory(ImmutableMap<String, Entry> entries) {
+    this.entries = entries;
+
+    Map<String, List<Entry>> entriesByType = new HashMap<>();
+    for (Entry entry : entries.values()) {
+      entriesByType.computeIfAbsent(entry.type, type -> new ArrayList<>()).add(entry);
+    }
+    ImmutableMap.Builder<String, Entry> averages = ImmutableMap.builder();
+    entriesByType.forEach((type, typeEntries) -> averages.put(type, Entry.mean(typeEntries)));
+    this.averageEntriesByType = averages.build();
+  }
+
+  public static BuildRuleResourceHistory empty() {
+    return new BuildRuleResourceHistory(ImmutableMap.of());
+  }
+
+  /** Reads the history of {@code filesystem}, or returns an empty one if it can't be read. */
+  public static BuildRuleResourceHistory load(ProjectFilesystem filesystem) {
+    return new BuildRuleResourceHistory(ImmutableMap.copyOf(getFile(filesystem).read()));
+  }
+
+  /**
+   * Merges the given measurements, keyed by fully qualified target name, into the history of {@code
+   * filesystem}.
+   */
+  public static void update(ProjectFilesystem filesystem, Map<String, Entry> measurements)
+      throws IOException {
+    getFile(filesystem).update(measurements, Entry::merge, MAX_ENTRIES);
+  }
+
+  private static BuildRuleHistoryFile<Entry> getFile(ProjectFilesystem filesystem) {
+    return new BuildRuleHistoryFile<>(
+        filesystem,
+        filesystem.getBuckPaths().getBuildRuleResourcesFile(),
+        HEADER,
+        5,
+        fields ->
+            new Entry(
+                fields.get(0),
+                Long.parseLong(fields.get(1)),
+                Long.parseLong(fields.get(2)),
+                Long.parseLong(fields.get(3)),
+                Long.parseLong(fields.get(4))),
+        entry ->
+            ImmutableList.of(
+                entry.type,
+                entry.cpuMillis,
+                entry.wallMillis,
+                entry.peakMemoryBytes,
+                entry.ioBytes));
+  }
+
+  /** @return the resources the rule used previously. */
+  public Optional<Entry> getEntry(String fullyQualifiedName) {
+    return Optional.ofNullable(entries.get(fullyQualifiedName));
+  }
+
+  /** @return the average resources rules of the given type used previously. */
+  public Optional<Entry> getAverageEntry(String ruleType) {
+    return Optional.ofNullable(averageEntriesByType.get(ruleType));
+  }
+
+  /** The resources used by the processes of a single rule. */
+  public static class Entry {
+    private final String type;
+    private final long cpuMillis;
+    private final long wallMillis;
+    private final long peakMemoryBytes;
+    private final long ioBytes;
+
+    public Entry(String type, long cpuMillis, long wallMillis, long peakMemoryBytes, long ioBytes) {
+      this.type = type;
+      this.cpuMillis = cpuMillis;
+      this.wallMillis = wallMillis;
+      this.peakMemoryBytes = peakMemoryBytes;
+      this.ioBytes = ioBytes;
+    }
+
+    public String getType() {
+      return type;
+    }
+
+    /** @return the user and system CPU time of the processes. */
+    public long getCpuMillis() {
+      return cpuMillis;
+    }
+
+    /** @return how long the processes ran. */
+    public long getWallMillis() {
+      return wallMillis;
+    }
+
+    /** @return the highest resident memory of any of the processes. */
+    public long getPeakMemoryBytes() {
+      return peakMemoryBytes;
+    }
+
+    /** @return the bytes the processes read and wrote. */
+    public long getIoBytes() {
+      return ioBytes;
+    }
+
+    /** @return the resources of a rule which launched the processes of both entries. */
+    public static Entry combine(Entry first, Entry second) {
+      return new Entry(
+          second.type,
+          first.cpuMillis + second.cpuMillis,
+          first.wallMillis + second.wallMillis,
+          Math.max(first.peakMemoryBytes, second.peakMemoryBytes),
+          first.ioBytes + second.ioBytes);
+    }
+
+    private static Entry merge(Entry previous, Entry latest) {
+      return new Entry(
+          latest.type,
+          (previous.cpuMillis + latest.cpuMillis) / 2,
+          (previous.wallMillis + latest.wallMillis) / 2,
+          Math.max(latest.peakMemoryBytes, (previous.peakMemoryBytes + latest.peakMemoryBytes) / 2),
+          (previous.ioBytes + latest.ioBytes) / 2);
+    }
+
+    private static Entry mean(List<Entry> entries) {
+      long cpuMillis = 0;
+      long wallMillis = 0;
+      long peakMemoryBytes = 0;
+      long ioBytes = 0;
+      for (Entry entry : entries) {
+        cpuMillis += entry.cpuMillis;
+        wallMillis += entry.wallMillis;
+        peakMemoryBytes += entry.peakMemoryBytes;
+        ioBytes += entry.ioBytes;
+      }
+      int count = entries.size();
+      return new Entry(
+          entries.get(0).type,
+          cpuMillis / count,
+          wallMillis / count,
+          peakMemoryBytes / count,
+          ioBytes / count);
+    }
+  }
+}
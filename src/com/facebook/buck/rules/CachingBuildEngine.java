@@ -48,10 +48,12 @@ import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -73,7 +75,8 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
       ResourceAmounts.of(0, 0, 1, 0);
   public static final ResourceAmounts SCHEDULING_MORE_WORK_RESOURCE_AMOUNTS = ResourceAmounts.ZERO;
 
-  static final String BUILD_RULE_TYPE_CONTEXT_KEY = "build_rule_type";
+  public static final String BUILD_TARGET_CONTEXT_KEY = "build_target";
+  public static final String BUILD_RULE_TYPE_CONTEXT_KEY = "build_rule_type";
   static final String STEP_TYPE_CONTEXT_KEY = "step_type";
   private final ConcurrentLinkedQueue<ListenableFuture<Void>> asyncCallbacks;
 
@@ -142,6 +145,7 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
   private final ResourceAwareSchedulingInfo resourceAwareSchedulingInfo;
 
   private final RuleDepsCache ruleDeps;
+  private final Optional<BuildRuleCriticalPaths> criticalPaths;
   private final Optional<UnskippedRulesTracker> unskippedRulesTracker;
   private final BuildRuleDurationTracker buildRuleDurationTracker = new BuildRuleDurationTracker();
   private final RuleKeyDiagnostics<RuleKey, String> defaultRuleKeyDiagnostics;
@@ -167,7 +171,8 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
       ResourceAwareSchedulingInfo resourceAwareSchedulingInfo,
       boolean consoleLogBuildFailuresInline,
       RuleKeyFactories ruleKeyFactories,
-      FileHashCacheMode fileHashCacheMode) {
+      FileHashCacheMode fileHashCacheMode,
+      Optional<BuildRuleDurationEstimator> criticalPathDurationEstimator) {
     this.cachingBuildEngineDelegate = cachingBuildEngineDelegate;
 
     this.service = service;
@@ -189,6 +194,9 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
     this.consoleLogBuildFailuresInline = consoleLogBuildFailuresInline;
 
     this.ruleDeps = new RuleDepsCache(resolver);
+    this.criticalPaths =
+        criticalPathDurationEstimator.map(
+            estimator -> new BuildRuleCriticalPaths(ruleDeps, estimator));
     this.unskippedRulesTracker = createUnskippedRulesTracker(buildMode, ruleDeps, resolver);
     this.fileHashCacheMode = fileHashCacheMode;
     this.defaultRuleKeyDiagnostics =
@@ -222,7 +230,8 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
       RuleKeyFactories ruleKeyFactories,
       ResourceAwareSchedulingInfo resourceAwareSchedulingInfo,
       boolean consoleLogBuildFailuresInline,
-      FileHashCacheMode fileHashCacheMode) {
+      FileHashCacheMode fileHashCacheMode,
+      Optional<BuildRuleDurationEstimator> criticalPathDurationEstimator) {
     this.cachingBuildEngineDelegate = cachingBuildEngineDelegate;
 
     this.service = service;
@@ -243,6 +252,9 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
     this.fileHashCacheMode = fileHashCacheMode;
 
     this.ruleDeps = new RuleDepsCache(resolver);
+    this.criticalPaths =
+        criticalPathDurationEstimator.map(
+            estimator -> new BuildRuleCriticalPaths(ruleDeps, estimator));
     this.unskippedRulesTracker = createUnskippedRulesTracker(buildMode, ruleDeps, resolver);
     this.defaultRuleKeyDiagnostics = RuleKeyDiagnostics.nop();
     this.consoleLogBuildFailuresInline = consoleLogBuildFailuresInline;
@@ -280,6 +292,17 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
     return service;
   }
 
+  /**
+   * When scheduling by critical path, the tasks of a rule wait for the build threads with the
+   * priority of its critical path, so that the rules which the most work is waiting for start
+   * first.
+   */
+  private WeightedListeningExecutorService prioritizedServiceFor(BuildRule rule) {
+    return criticalPaths
+        .map(paths -> service.withPriority(paths.getCriticalPathWallMillis(rule)))
+        .orElse(service);
+  }
+
   private static Optional<UnskippedRulesTracker> createUnskippedRulesTracker(
       BuildMode buildMode, RuleDepsCache ruleDeps, BuildRuleResolver resolver) {
     if (buildMode == BuildMode.DEEP || buildMode == BuildMode.POPULATE_FROM_REMOTE_CACHE) {
@@ -313,15 +336,21 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
       BuildRule rule, BuildEngineBuildContext buildContext, ExecutionContext executionContext) {
     List<ListenableFuture<BuildResult>> depResults =
         new ArrayList<>(SortedSets.sizeEstimate(rule.getBuildDeps()));
-    for (BuildRule dep : shuffled(rule.getBuildDeps())) {
+    for (BuildRule dep : inSchedulingOrder(rule.getBuildDeps())) {
       depResults.add(getBuildRuleResultWithRuntimeDeps(dep, buildContext, executionContext));
     }
     return Futures.allAsList(depResults);
   }
 
-  private static List<BuildRule> shuffled(Iterable<BuildRule> rules) {
+  private List<BuildRule> inSchedulingOrder(Iterable<BuildRule> rules) {
     ArrayList<BuildRule> rulesList = Lists.newArrayList(rules);
-    Collections.shuffle(rulesList);
+    if (criticalPaths.isPresent()) {
+      // Deps with the longest critical path get to queue for the build threads first.
+      rulesList.sort(
+          Comparator.comparingLong(criticalPaths.get()::getCriticalPathWallMillis).reversed());
+    } else {
+      Collections.shuffle(rulesList);
+    }
     return rulesList;
   }
 
@@ -353,7 +382,10 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
         Futures.transformAsync(
             ruleKey,
             input -> processBuildRule(rule, buildContext, executionContext),
-            serviceByAdjustingDefaultWeightsTo(SCHEDULING_MORE_WORK_RESOURCE_AMOUNTS));
+            serviceByAdjustingDefaultWeightsTo(
+                SCHEDULING_MORE_WORK_RESOURCE_AMOUNTS,
+                resourceAwareSchedulingInfo,
+                prioritizedServiceFor(rule)));
     if (!(rule instanceof HasRuntimeDeps)) {
       results.put(rule.getBuildTarget(), result);
       return result;
@@ -428,7 +460,7 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
     return seen.size();
   }
 
-  private synchronized ListenableFuture<RuleKey> calculateRuleKey(
+  private ListenableFuture<RuleKey> calculateRuleKey(
       final BuildRule rule, final BuildEngineBuildContext context) {
     ListenableFuture<RuleKey> fromOurCache = ruleKeys.get(rule.getBuildTarget());
     if (fromOurCache != null) {
@@ -438,13 +470,34 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
     RuleKey fromInternalCache = ruleKeyFactories.getDefaultRuleKeyFactory().getFromCache(rule);
     if (fromInternalCache != null) {
       ListenableFuture<RuleKey> future = Futures.immediateFuture(fromInternalCache);
-      // Record the rule key future.
-      ruleKeys.put(rule.getBuildTarget(), future);
+      // Record the rule key future.  Any racing thread is guaranteed to have published an
+      // equivalent future, so prefer whichever one got there first.
+      ListenableFuture<RuleKey> existing = ruleKeys.putIfAbsent(rule.getBuildTarget(), future);
       // Because a rule key will be invalidated from the internal cache any time one of its
       // dependents is invalidated, we know that all of our transitive deps are also in cache.
-      return future;
+      return existing != null ? existing : future;
     }
 
+    // We use a SettableFuture to resolve races between threads that are trying to schedule the
+    // rule key computation for the same rule, rather than holding a lock while recursing into the
+    // deps. Losing the race is cheap, as nothing has been scheduled yet.
+    SettableFuture<RuleKey> ruleKeyCandidate = SettableFuture.create();
+    ListenableFuture<RuleKey> ruleKeyInMap =
+        ruleKeys.putIfAbsent(rule.getBuildTarget(), ruleKeyCandidate);
+    if (ruleKeyInMap != null) {
+      return ruleKeyInMap;
+    }
+    try {
+      ruleKeyCandidate.setFuture(scheduleRuleKeyCalculation(rule, context));
+    } catch (Throwable t) {
+      ruleKeyCandidate.setException(t);
+      throw t;
+    }
+    return ruleKeyCandidate;
+  }
+
+  private ListenableFuture<RuleKey> scheduleRuleKeyCalculation(
+      final BuildRule rule, final BuildEngineBuildContext context) {
     // Grab all the dependency rule key futures.  Since our rule key calculation depends on this
     // one, we need to wait for them to complete.
     ListenableFuture<List<RuleKey>> depKeys =
@@ -481,8 +534,6 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
             },
             serviceByAdjustingDefaultWeightsTo(RULE_KEY_COMPUTATION_RESOURCE_AMOUNTS));
 
-    // Record the rule key future.
-    ruleKeys.put(rule.getBuildTarget(), calculated);
     return calculated;
   }
 
@@ -492,6 +543,7 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
     // Keep track of all jobs that run asynchronously with respect to the build dep chain.  We want
     // to make sure we wait for these before calling yielding the final build result.
     registerTopLevelRule(rule, buildContext.getEventBus());
+    criticalPaths.ifPresent(paths -> paths.addTopLevelRule(rule));
     ListenableFuture<BuildResult> resultFuture =
         getBuildRuleResultWithRuntimeDeps(rule, buildContext, executionContext);
     return BuildEngineResult.builder().setResult(resultFuture).build();
@@ -564,7 +616,7 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
             pathResolver,
             resourceAwareSchedulingInfo,
             ruleKeyFactories,
-            service,
+            prioritizedServiceFor(rule),
             stepRunner,
             this.ruleDeps,
             rule,
@@ -18,6 +18,8 @@ package com.facebook.buck.rules;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
 import com.facebook.buck.artifact_cache.ArtifactInfo;
+import com.facebook.buck.artifact_cache.ArtifactContainerFormat;
+import com.facebook.buck.artifact_cache.ArtifactPayloadConsumer;
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.CacheResultType;
 import com.facebook.buck.artifact_cache.RuleKeyCacheResult;
@@ -1084,8 +1086,9 @@ class CachingBuildRuleBuilder {
       return Futures.immediateFuture(CacheResult.ignored());
     }
 
-    // Create a temp file whose extension must be ".zip" for Filesystems.newFileSystem() to infer
-    // that we are creating a zip-based FileSystem.
+    // Caches which can't hand the artifact over while it is being fetched download it to this temp
+    // file first. Its extension must be ".zip" for Filesystems.newFileSystem() to infer that we are
+    // creating a zip-based FileSystem.
     final LazyPath lazyZipPath =
         new LazyPath() {
           @Override
@@ -1096,33 +1099,15 @@ class CachingBuildRuleBuilder {
           }
         };
 
-    // TODO(mbolin): Change ArtifactCache.fetch() so that it returns a File instead of takes one.
-    // Then we could download directly from the remote cache into the on-disk cache and unzip it
-    // from there.
+    ArtifactExtractor extractor = new ArtifactExtractor(ruleKey, artifactCache, filesystem);
     return Futures.transformAsync(
-        fetch(artifactCache, ruleKey, lazyZipPath),
-        cacheResult -> {
+        artifactCache.fetchStreamingAsync(ruleKey, lazyZipPath, extractor),
+        (CacheResult cacheResult) -> {
           try (Scope ignored = buildRuleScope()) {
-            // Verify that the rule key we used to fetch the artifact is one of the rule keys reported in
-            // it's metadata.
-            if (cacheResult.getType().isSuccess()) {
-              ImmutableSet<RuleKey> ruleKeys =
-                  RichStream.from(cacheResult.getMetadata().entrySet())
-                      .filter(e -> BuildInfo.RULE_KEY_NAMES.contains(e.getKey()))
-                      .map(Map.Entry::getValue)
-                      .map(RuleKey::new)
-                      .toImmutableSet();
-              if (!ruleKeys.contains(ruleKey)) {
-                LOG.warn(
-                    "%s: rule keys in artifact don't match rule key used to fetch it: %s not in %s",
-                    rule.getBuildTarget(), ruleKey, ruleKeys);
-              }
-            }
-
-            return Futures.immediateFuture(
-                unzipArtifactFromCacheResult(ruleKey, lazyZipPath, filesystem, cacheResult));
+            return Futures.immediateFuture(extractor.finish(cacheResult));
           }
-        });
+        },
+        serviceByAdjustingDefaultWeightsTo(CachingBuildEngine.CACHE_CHECK_RESOURCE_AMOUNTS));
   }
 
   private void invalidateInitializeFromDiskState() {
@@ -1140,27 +1125,32 @@ class CachingBuildRuleBuilder {
             if (cacheResult.getType() != CacheResultType.HIT) {
               return cacheResult;
             }
-            for (String ruleKeyName : BuildInfo.RULE_KEY_NAMES) {
-              if (!cacheResult.getMetadata().containsKey(ruleKeyName)) {
-                continue;
-              }
-              String ruleKeyValue = cacheResult.getMetadata().get(ruleKeyName);
-              try {
-                verify(ruleKeyValue);
-              } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException(
-                    String.format(
-                        "Invalid '%s' rule key in metadata for artifact '%s' returned by cache '%s': '%s'",
-                        ruleKeyName, ruleKey, artifactCache.getClass(), ruleKeyValue),
-                    e);
-              }
-            }
+            verifyRuleKeysInMetadata(ruleKey, artifactCache, cacheResult.getMetadata());
             return cacheResult;
           }
         },
         serviceByAdjustingDefaultWeightsTo(CachingBuildEngine.CACHE_CHECK_RESOURCE_AMOUNTS));
   }
 
+  private void verifyRuleKeysInMetadata(
+      RuleKey ruleKey, ArtifactCache artifactCache, ImmutableMap<String, String> metadata) {
+    for (String ruleKeyName : BuildInfo.RULE_KEY_NAMES) {
+      if (!metadata.containsKey(ruleKeyName)) {
+        continue;
+      }
+      String ruleKeyValue = metadata.get(ruleKeyName);
+      try {
+        verify(ruleKeyValue);
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Invalid '%s' rule key in metadata for artifact '%s' returned by cache '%s': '%s'",
+                ruleKeyName, ruleKey, artifactCache.getClass(), ruleKeyValue),
+            e);
+      }
+    }
+  }
+
   /**
    * Checks that passed rule key value is valid and throws an {@link IllegalArgumentException} if it
    * is not.
@@ -1172,69 +1162,114 @@ class CachingBuildRuleBuilder {
     HashCode.fromString(ruleKeyValue);
   }
 
-  private CacheResult unzipArtifactFromCacheResult(
-      RuleKey ruleKey, LazyPath lazyZipPath, ProjectFilesystem filesystem, CacheResult cacheResult)
-      throws IOException {
+  /**
+   * Unpacks an artifact into the project filesystem while it is being fetched from the cache,
+   * without writing the zipped artifact to disk first.
+   */
+  private class ArtifactExtractor implements ArtifactPayloadConsumer {
+    private final RuleKey ruleKey;
+    private final ArtifactCache cache;
+    private final ProjectFilesystem filesystem;
+    private ImmutableList<Path> extractedFiles = ImmutableList.of();
+    @Nullable private IllegalArgumentException invalidMetadata;
 
-    // We only unpack artifacts from hits.
-    if (!cacheResult.getType().isSuccess()) {
-      LOG.debug("Cache miss for '%s' with rulekey '%s'", rule, ruleKey);
-      return cacheResult;
+    private ArtifactExtractor(
+        RuleKey ruleKey, ArtifactCache cache, ProjectFilesystem filesystem) {
+      this.ruleKey = ruleKey;
+      this.cache = cache;
+      this.filesystem = filesystem;
     }
 
-    invalidateInitializeFromDiskState();
-
-    Preconditions.checkArgument(cacheResult.getType() == CacheResultType.HIT);
-    LOG.debug("Fetched '%s' from cache with rulekey '%s'", rule, ruleKey);
-
-    // It should be fine to get the path straight away, since cache already did it's job.
-    Path zipPath = lazyZipPath.getUnchecked();
+    @Override
+    public void consume(ImmutableMap<String, String> metadata, InputStream payload)
+        throws IOException {
+      try (Scope ignored = buildRuleScope()) {
+        invalidMetadata = null;
+        try {
+          verifyRuleKeysInMetadata(ruleKey, cache, metadata);
+        } catch (IllegalArgumentException e) {
+          // Leave the outputs alone, the build fails with this once the fetch finished.
+          invalidMetadata = e;
+          return;
+        }
 
-    // We unzip the file in the root of the project directory.
-    // Ideally, the following would work:
-    //
-    // Path pathToZip = Paths.get(zipPath.getAbsolutePath());
-    // FileSystem fs = FileSystems.newFileSystem(pathToZip, /* loader */ null);
-    // Path root = Iterables.getOnlyElement(fs.getRootDirectories());
-    // MoreFiles.copyRecursively(root, projectRoot);
-    //
-    // Unfortunately, this does not appear to work, in practice, because MoreFiles fails when trying
-    // to resolve a Path for a zip entry against a file Path on disk.
-    ArtifactCompressionEvent.Started started =
-        ArtifactCompressionEvent.started(
-            ArtifactCompressionEvent.Operation.DECOMPRESS, ImmutableSet.of(ruleKey));
-    eventBus.post(started);
-    try {
+        invalidateInitializeFromDiskState();
+
+        ArtifactCompressionEvent.Started started =
+            ArtifactCompressionEvent.started(
+                ArtifactCompressionEvent.Operation.DECOMPRESS, ImmutableSet.of(ruleKey));
+        eventBus.post(started);
+        try {
+
+          // First, clear out the pre-existing metadata directory.  We have to do this *before*
+          // unpacking the zipped artifact, as it includes files that will be stored in the
+          // metadata directory.
+          BuildInfoStore buildInfoStore =
+              buildInfoStoreManager.get(rule.getProjectFilesystem(), metadataStorage);
+          buildInfoStore.deleteMetadata(rule.getBuildTarget());
+
+          // Always remove the on-disk metadata dir, as some pieces of metadata are still stored
+          // here (e.g. `DEP_FILE`, manifest).
+          Path metadataDir =
+              BuildInfo.getPathToMetadataDirectory(
+                  rule.getBuildTarget(), rule.getProjectFilesystem());
+          rule.getProjectFilesystem().deleteRecursivelyIfExists(metadataDir);
+
+          // We unpack the artifact in the root of the project directory.
+          extractedFiles =
+              ArtifactContainerFormat.fromMetadata(metadata)
+                  .extract(
+                      payload,
+                      filesystem,
+                      Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
+        } finally {
+          eventBus.post(ArtifactCompressionEvent.finished(started));
+        }
+      }
+    }
 
-      // First, clear out the pre-existing metadata directory.  We have to do this *before*
-      // unpacking the zipped artifact, as it includes files that will be stored in the metadata
-      // directory.
-      BuildInfoStore buildInfoStore =
-          buildInfoStoreManager.get(rule.getProjectFilesystem(), metadataStorage);
-      buildInfoStore.deleteMetadata(rule.getBuildTarget());
+    @Override
+    public void discard() throws IOException {
+      LOG.debug("Discarding the artifact of '%s' with rulekey '%s'", rule, ruleKey);
+      for (Path path : extractedFiles) {
+        filesystem.deleteFileAtPathIfExists(path);
+      }
+      extractedFiles = ImmutableList.of();
+    }
 
-      // Always remove the on-disk metadata dir, as some pieces of metadata are still stored here
-      // (e.g. `DEP_FILE`, manifest).
-      Path metadataDir =
-          BuildInfo.getPathToMetadataDirectory(rule.getBuildTarget(), rule.getProjectFilesystem());
-      rule.getProjectFilesystem().deleteRecursivelyIfExists(metadataDir);
+    private CacheResult finish(CacheResult cacheResult) throws IOException {
+      // We only unpack artifacts from hits.
+      if (!cacheResult.getType().isSuccess()) {
+        LOG.debug("Cache miss for '%s' with rulekey '%s'", rule, ruleKey);
+        return cacheResult;
+      }
+      if (invalidMetadata != null) {
+        throw invalidMetadata;
+      }
 
-      Unzip.extractZipFile(
-          zipPath.toAbsolutePath(),
-          filesystem,
-          Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
+      // Verify that the rule key we used to fetch the artifact is one of the rule keys reported in
+      // it's metadata.
+      ImmutableSet<RuleKey> ruleKeys =
+          RichStream.from(cacheResult.getMetadata().entrySet())
+              .filter(e -> BuildInfo.RULE_KEY_NAMES.contains(e.getKey()))
+              .map(Map.Entry::getValue)
+              .map(RuleKey::new)
+              .toImmutableSet();
+      if (!ruleKeys.contains(ruleKey)) {
+        LOG.warn(
+            "%s: rule keys in artifact don't match rule key used to fetch it: %s not in %s",
+            rule.getBuildTarget(), ruleKey, ruleKeys);
+      }
 
-      // We only delete the ZIP file when it has been unzipped successfully. Otherwise, we leave it
-      // around for debugging purposes.
-      Files.delete(zipPath);
+      Preconditions.checkArgument(cacheResult.getType() == CacheResultType.HIT);
+      LOG.debug("Fetched '%s' from cache with rulekey '%s'", rule, ruleKey);
 
       // Also write out the build metadata.
-      buildInfoStore.updateMetadata(rule.getBuildTarget(), cacheResult.getMetadata());
-    } finally {
-      eventBus.post(ArtifactCompressionEvent.finished(started));
+      buildInfoStoreManager
+          .get(rule.getProjectFilesystem(), metadataStorage)
+          .updateMetadata(rule.getBuildTarget(), cacheResult.getMetadata());
+      return cacheResult;
     }
-
-    return cacheResult;
   }
 
   private void executePostBuildSteps(Iterable<Step> postBuildSteps)
@@ -1249,6 +1284,8 @@ class CachingBuildRuleBuilder {
               new ContextualProcessExecutor(
                   executionContext.getProcessExecutor(),
                   ImmutableMap.of(
+                      CachingBuildEngine.BUILD_TARGET_CONTEXT_KEY,
+                      rule.getFullyQualifiedName(),
                       CachingBuildEngine.BUILD_RULE_TYPE_CONTEXT_KEY,
                       rule.getType(),
                       CachingBuildEngine.STEP_TYPE_CONTEXT_KEY,
@@ -1753,6 +1790,8 @@ class CachingBuildRuleBuilder {
                 new ContextualProcessExecutor(
                     executionContext.getProcessExecutor(),
                     ImmutableMap.of(
+                        CachingBuildEngine.BUILD_TARGET_CONTEXT_KEY,
+                        rule.getFullyQualifiedName(),
                         CachingBuildEngine.BUILD_RULE_TYPE_CONTEXT_KEY,
                         rule.getType(),
                         CachingBuildEngine.STEP_TYPE_CONTEXT_KEY,
@@ -112,4 +112,13 @@ public interface TestRule extends BuildRule {
    *     testReportingCallback} as the tests run, false otherwise.
    */
   boolean supportsStreamingTests();
+
+  /**
+   * @return true if the results of this test only depend on its rule key, and {@code
+   *     interpretTestResults()} can read them back from the files in its output directory alone, so
+   *     that the results of a passing run can be cached and replayed, false otherwise.
+   */
+  default boolean supportsCachingTestResults() {
+    return false;
+  }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.rules.AddToRuleKeyAccessor;
+import java.lang.reflect.Member;
+import javax.annotation.Nullable;
+
+/** Extracts the value of a member through the accessor generated for its declaring class. */
+public class AccessorValueExtractor implements ValueExtractor {
+  private final Member member;
+  private final AddToRuleKeyAccessor accessor;
+  private final int index;
+
+  AccessorValueExtractor(Member member, AddToRuleKeyAccessor accessor, int index) {
+    this.member = member;
+    this.accessor = accessor;
+    this.index = index;
+  }
+
+  @Override
+  public String getFullyQualifiedName() {
+    return member.getDeclaringClass() + "." + member.getName();
+  }
+
+  @Override
+  public String getName() {
+    return member.getName();
+  }
+
+  @Override
+  @Nullable
+  public Object getValue(Object obj) {
+    return accessor.getValue(index, obj);
+  }
+}
@@ -16,7 +16,9 @@
 
 package com.facebook.buck.rules.keys;
 
+import com.facebook.buck.log.Logger;
 import com.facebook.buck.rules.AddToRuleKey;
+import com.facebook.buck.rules.AddToRuleKeyAccessor;
 import com.facebook.buck.rules.AddsToRuleKey;
 import com.facebook.buck.util.immutables.BuckStyleImmutable;
 import com.facebook.buck.util.immutables.BuckStyleTuple;
@@ -33,10 +35,21 @@ import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Queue;
 
+/**
+ * Finds the {@link AddToRuleKey} members of a class and its supertypes.
+ *
+ * <p>Members are read through the {@link AddToRuleKeyAccessor} generated at compile time for their
+ * declaring class where there is one, and reflectively otherwise. Either way they are added to the
+ * rule key in the same order and under the same names, so the rule keys don't depend on whether
+ * the annotation processor ran.
+ */
 class ReflectiveAlterKeyLoader extends CacheLoader<Class<?>, ImmutableCollection<AlterRuleKey>> {
 
+  private static final Logger LOG = Logger.get(ReflectiveAlterKeyLoader.class);
+
   private static final Comparator<ValueExtractor> COMPARATOR =
       (o1, o2) -> {
         String name1 = o1.getFullyQualifiedName();
@@ -44,6 +57,16 @@ class ReflectiveAlterKeyLoader extends CacheLoader<Class<?>, ImmutableCollection
         return name1.compareTo(name2);
       };
 
+  private final boolean useGeneratedAccessors;
+
+  ReflectiveAlterKeyLoader() {
+    this(true);
+  }
+
+  ReflectiveAlterKeyLoader(boolean useGeneratedAccessors) {
+    this.useGeneratedAccessors = useGeneratedAccessors;
+  }
+
   @Override
   public ImmutableCollection<AlterRuleKey> load(Class<?> key) throws Exception {
     ImmutableList.Builder<AlterRuleKey> builder = ImmutableList.builder();
@@ -68,17 +91,24 @@ class ReflectiveAlterKeyLoader extends CacheLoader<Class<?>, ImmutableCollection
     for (Class<?> current : superClassesAndInterfaces) {
       ImmutableSortedMap.Builder<ValueExtractor, AlterRuleKey> sortedExtractors =
           ImmutableSortedMap.orderedBy(COMPARATOR);
+      Optional<AddToRuleKeyAccessor> accessor =
+          useGeneratedAccessors ? loadGeneratedAccessor(current) : Optional.empty();
       for (final Field field : current.getDeclaredFields()) {
-        field.setAccessible(true);
         final AddToRuleKey annotation = field.getAnnotation(AddToRuleKey.class);
         if (annotation != null) {
-          ValueExtractor valueExtractor = new FieldValueExtractor(field);
+          int index = accessor.map(a -> a.getMemberNames().indexOf(field.getName())).orElse(-1);
+          ValueExtractor valueExtractor;
+          if (index >= 0) {
+            valueExtractor = new AccessorValueExtractor(field, accessor.get(), index);
+          } else {
+            field.setAccessible(true);
+            valueExtractor = new FieldValueExtractor(field);
+          }
           sortedExtractors.put(
               valueExtractor, createAlterRuleKey(valueExtractor, annotation.stringify()));
         }
       }
       for (final Method method : current.getDeclaredMethods()) {
-        method.setAccessible(true);
         final AddToRuleKey annotation = method.getAnnotation(AddToRuleKey.class);
         if (annotation != null) {
           Preconditions.checkState(
@@ -87,7 +117,15 @@ class ReflectiveAlterKeyLoader extends CacheLoader<Class<?>, ImmutableCollection
               current.getName(),
               method.getName());
 
-          ValueExtractor valueExtractor = new ValueMethodValueExtractor(method);
+          int index =
+              accessor.map(a -> a.getMemberNames().indexOf(method.getName() + "()")).orElse(-1);
+          ValueExtractor valueExtractor;
+          if (index >= 0) {
+            valueExtractor = new AccessorValueExtractor(method, accessor.get(), index);
+          } else {
+            method.setAccessible(true);
+            valueExtractor = new ValueMethodValueExtractor(method);
+          }
           sortedExtractors.put(
               valueExtractor, createAlterRuleKey(valueExtractor, annotation.stringify()));
         }
@@ -97,6 +135,37 @@ class ReflectiveAlterKeyLoader extends CacheLoader<Class<?>, ImmutableCollection
     return builder.build();
   }
 
+  /**
+   * @return the accessor generated by {@code AddToRuleKeyProcessor} for the members declared by
+   *     {@code cls}, if the processor ran when {@code cls} was compiled.
+   */
+  private static Optional<AddToRuleKeyAccessor> loadGeneratedAccessor(Class<?> cls) {
+    ClassLoader classLoader = cls.getClassLoader();
+    if (classLoader == null) {
+      // Bootstrap classes never declare rule key members.
+      return Optional.empty();
+    }
+    String accessorName = AddToRuleKeyAccessor.getAccessorName(cls.getName());
+    try {
+      Class<?> accessorClass = Class.forName(accessorName, true, classLoader);
+      AddToRuleKeyAccessor accessor =
+          accessorClass.asSubclass(AddToRuleKeyAccessor.class).getConstructor().newInstance();
+      if (accessor.getTargetClass() != cls) {
+        // Some other class happens to have the name the accessor of cls would have.
+        LOG.warn(
+            "%s reads %s rather than %s, falling back to reflection.",
+            accessorName, accessor.getTargetClass().getName(), cls.getName());
+        return Optional.empty();
+      }
+      return Optional.of(accessor);
+    } catch (ClassNotFoundException e) {
+      return Optional.empty();
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      LOG.warn(e, "Unable to load %s, falling back to reflection.", accessorName);
+      return Optional.empty();
+    }
+  }
+
   private boolean hasImmutableAnnotation(Class<?> current) {
     // Value.Immutable only has CLASS retention, so we need to detect this based on our own
     // annotations.
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates an {@code AddToRuleKeyAccessor} for every class which declares {@code AddToRuleKey}
+ * members, so that computing rule keys does not need to read them reflectively.
+ *
+ * <p>Fields and methods which are accessible from the package of the class are read directly.
+ * Private fields are read through a {@link java.lang.invoke.MethodHandle} created once when the
+ * accessor is loaded, which the JIT treats like a direct field access. Anything else is left out of
+ * the accessor and keeps being read reflectively at runtime.
+ *
+ * <p>This runs inside the compiler, so it must not depend on any Buck code; the names of the types
+ * it refers to are spelled out below.
+ */
+@SupportedAnnotationTypes(AddToRuleKeyProcessor.ADD_TO_RULE_KEY)
+public class AddToRuleKeyProcessor extends AbstractProcessor {
+
+  static final String ADD_TO_RULE_KEY = "com.facebook.buck.rules.AddToRuleKey";
+  static final String ACCESSOR = "com.facebook.buck.rules.AddToRuleKeyAccessor";
+  static final String CLASS_NAME_SUFFIX = "_AddToRuleKeyAccessor";
+
+  // Mirrors the check in ReflectiveAlterKeyLoader: methods may only be annotated on immutables.
+  private static final String BUCK_STYLE_IMMUTABLE =
+      "com.facebook.buck.util.immutables.BuckStyleImmutable";
+  private static final String BUCK_STYLE_TUPLE = "com.facebook.buck.util.immutables.BuckStyleTuple";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ADD_TO_RULE_KEY);
+    if (annotation == null) {
+      return false;
+    }
+
+    Map<TypeElement, List<Element>> membersByType = new LinkedHashMap<>();
+    for (Element member : roundEnv.getElementsAnnotatedWith(annotation)) {
+      Element enclosing = member.getEnclosingElement();
+      if (enclosing instanceof TypeElement && isReadable(member, (TypeElement) enclosing)) {
+        membersByType
+            .computeIfAbsent((TypeElement) enclosing, type -> new ArrayList<>())
+            .add(member);
+      }
+    }
+
+    for (Map.Entry<TypeElement, List<Element>> entry : membersByType.entrySet()) {
+      if (isNameable(entry.getKey())) {
+        // The round lists annotated elements in no particular order, so use the declaration order.
+        List<? extends Element> declared = entry.getKey().getEnclosedElements();
+        entry.getValue().sort(Comparator.comparingInt(declared::indexOf));
+        generateAccessor(entry.getKey(), entry.getValue());
+      }
+    }
+
+    // Don't claim the annotation, it is only ever read at runtime.
+    return false;
+  }
+
+  private static boolean isReadable(Element member, TypeElement type) {
+    Set<Modifier> modifiers = member.getModifiers();
+    if (modifiers.contains(Modifier.STATIC)) {
+      return false;
+    }
+    if (member.getKind() == ElementKind.FIELD) {
+      return true;
+    }
+    return member.getKind() == ElementKind.METHOD
+        && !modifiers.contains(Modifier.PRIVATE)
+        && ((ExecutableElement) member).getParameters().isEmpty()
+        && hasImmutableAnnotation(type);
+  }
+
+  private static boolean hasImmutableAnnotation(TypeElement type) {
+    for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+      String name =
+          ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+      if (name.equals(BUCK_STYLE_IMMUTABLE) || name.equals(BUCK_STYLE_TUPLE)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** @return whether code in the package of {@code type} can refer to it by name. */
+  private static boolean isNameable(TypeElement type) {
+    for (Element current = type;
+        current instanceof TypeElement;
+        current = current.getEnclosingElement()) {
+      NestingKind nestingKind = ((TypeElement) current).getNestingKind();
+      if ((nestingKind != NestingKind.TOP_LEVEL && nestingKind != NestingKind.MEMBER)
+          || current.getModifiers().contains(Modifier.PRIVATE)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void generateAccessor(TypeElement type, List<Element> members) {
+    String packageName =
+        processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+    // Must match AddToRuleKeyAccessor.getAccessorName.
+    String simpleName =
+        (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace("_", "__")
+                .replace("$", "_1")
+            + CLASS_NAME_SUFFIX;
+    String typeName = getWildcardTypeName(type);
+
+    try (PrintWriter out =
+        new PrintWriter(
+            processingEnv
+                .getFiler()
+                .createSourceFile(
+                    packageName.isEmpty() ? simpleName : packageName + "." + simpleName, type)
+                .openWriter())) {
+      out.printf("// Generated by %s. Do not edit.%n", getClass().getName());
+      if (!packageName.isEmpty()) {
+        out.printf("package %s;%n", packageName);
+      }
+      out.println();
+      out.printf("public final class %s implements %s {%n", simpleName, ACCESSOR);
+      out.println();
+
+      boolean hasPrivateMembers = false;
+      StringBuilder names = new StringBuilder();
+      for (int i = 0; i < members.size(); i++) {
+        Element member = members.get(i);
+        String name = member.getSimpleName().toString();
+        names.append(i == 0 ? "" : ", ").append('"').append(name);
+        names.append(member.getKind() == ElementKind.METHOD ? "()\"" : "\"");
+        if (member.getModifiers().contains(Modifier.PRIVATE)) {
+          hasPrivateMembers = true;
+          out.printf(
+              "  private static final java.lang.invoke.MethodHandle MEMBER_%d = getter(\"%s\");%n",
+              i, name);
+        }
+      }
+      if (hasPrivateMembers) {
+        out.println();
+      }
+      out.println("  private static final java.util.List<java.lang.String> MEMBER_NAMES =");
+      out.printf(
+          "      java.util.Collections.unmodifiableList(java.util.Arrays.asList(%s));%n", names);
+      out.println();
+
+      out.println("  @java.lang.Override");
+      out.println("  public java.lang.Class<?> getTargetClass() {");
+      out.printf("    return %s.class;%n", getRawTypeName(typeName));
+      out.println("  }");
+      out.println();
+
+      out.println("  @java.lang.Override");
+      out.println("  public java.util.List<java.lang.String> getMemberNames() {");
+      out.println("    return MEMBER_NAMES;");
+      out.println("  }");
+      out.println();
+
+      out.println("  @java.lang.Override");
+      out.println("  public java.lang.Object getValue(int member, java.lang.Object instance) {");
+      out.println("    switch (member) {");
+      for (int i = 0; i < members.size(); i++) {
+        Element member = members.get(i);
+        out.printf("      case %d:%n", i);
+        if (member.getModifiers().contains(Modifier.PRIVATE)) {
+          out.println("        try {");
+          out.printf("          return MEMBER_%d.invoke(instance);%n", i);
+          out.println("        } catch (java.lang.Throwable t) {");
+          out.println("          throw new java.lang.IllegalStateException(t);");
+          out.println("        }");
+        } else {
+          out.printf(
+              "        return ((%s) instance).%s%s;%n",
+              typeName,
+              member.getSimpleName(),
+              member.getKind() == ElementKind.METHOD ? "()" : "");
+        }
+      }
+      out.println("      default:");
+      out.println("        throw new java.lang.IndexOutOfBoundsException(");
+      out.println("            java.lang.String.valueOf(member));");
+      out.println("    }");
+      out.println("  }");
+
+      if (hasPrivateMembers) {
+        writeGetterFactory(out, typeName);
+      }
+      out.println("}");
+      if (out.checkError()) {
+        throw new IOException("Failed to write " + simpleName);
+      }
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.WARNING,
+              "Could not generate a rule key accessor, falling back to reflection: " + e,
+              type);
+    }
+  }
+
+  private static void writeGetterFactory(PrintWriter out, String typeName) {
+    out.println();
+    out.println("  private static java.lang.invoke.MethodHandle getter(java.lang.String name) {");
+    out.println("    try {");
+    out.printf(
+        "      java.lang.reflect.Field field = %s.class.getDeclaredField(name);%n",
+        getRawTypeName(typeName));
+    out.println("      field.setAccessible(true);");
+    out.println("      return java.lang.invoke.MethodHandles.lookup()");
+    out.println("          .unreflectGetter(field)");
+    out.println("          .asType(");
+    out.println("              java.lang.invoke.MethodType.methodType(");
+    out.println("                  java.lang.Object.class, java.lang.Object.class));");
+    out.println("    } catch (java.lang.ReflectiveOperationException e) {");
+    out.println("      throw new java.lang.IllegalStateException(e);");
+    out.println("    }");
+    out.println("  }");
+  }
+
+  /** @return {@code typeName} without its type arguments, as it can be used in a class literal. */
+  private static String getRawTypeName(String typeName) {
+    return typeName.replaceAll("<[^<>]*>", "");
+  }
+
+  /**
+   * @return the name of {@code type} as it can be used in a cast, with all type parameters,
+   *     including those of enclosing classes of inner classes, replaced by wildcards.
+   */
+  private static String getWildcardTypeName(TypeElement type) {
+    String name;
+    Element enclosing = type.getEnclosingElement();
+    if (enclosing.getKind() == ElementKind.CLASS
+        && type.getKind() == ElementKind.CLASS
+        && !type.getModifiers().contains(Modifier.STATIC)) {
+      // Inner classes of generic classes can only be referred to through a parameterized outer.
+      name = getWildcardTypeName((TypeElement) enclosing) + "." + type.getSimpleName();
+    } else {
+      name = type.getQualifiedName().toString();
+    }
+    int typeParameters = type.getTypeParameters().size();
+    if (typeParameters > 0) {
+      StringBuilder wildcards = new StringBuilder("<?");
+      for (int i = 1; i < typeParameters; i++) {
+        wildcards.append(", ?");
+      }
+      name += wildcards.append('>');
+    }
+    return name;
+  }
+}
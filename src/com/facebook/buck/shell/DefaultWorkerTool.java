@@ -43,6 +43,7 @@ public class DefaultWorkerTool extends NoopBuildRuleWithDeclaredAndExtraDeps
   @AddToRuleKey private final Tool tool;
 
   private final int maxWorkers;
+  private final int maxJobsPerWorker;
   private final boolean isPersistent;
   private final BuildOutputInitializer<Data> buildOutputInitializer;
 
@@ -52,10 +53,12 @@ public class DefaultWorkerTool extends NoopBuildRuleWithDeclaredAndExtraDeps
       BuildRuleParams ruleParams,
       Tool tool,
       int maxWorkers,
+      int maxJobsPerWorker,
       boolean isPersistent) {
     super(buildTarget, projectFilesystem, ruleParams);
     this.tool = tool;
     this.maxWorkers = maxWorkers;
+    this.maxJobsPerWorker = maxJobsPerWorker;
     this.isPersistent = isPersistent;
     this.buildOutputInitializer = new BuildOutputInitializer<>(getBuildTarget(), this);
   }
@@ -75,6 +78,11 @@ public class DefaultWorkerTool extends NoopBuildRuleWithDeclaredAndExtraDeps
     return maxWorkers;
   }
 
+  @Override
+  public int getMaxJobsPerWorker() {
+    return maxJobsPerWorker;
+  }
+
   @Override
   public boolean isPersistent() {
     return isPersistent;
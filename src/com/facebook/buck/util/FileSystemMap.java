@@ -20,8 +20,11 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.Stack;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nullable;
@@ -176,61 +179,93 @@ public class FileSystemMap<T> {
    */
   public void remove(Path path) {
     synchronized (root) {
-      Stack<Entry<T>> stack = new Stack<>();
-      stack.push(root);
-      Entry<T> entry = root;
-      // Walk the tree to fetch the node requested by the path, or the closest intermediate node.
-      boolean partial = false;
-      for (Path p : path) {
-        entry = entry.subLevels.get(p);
-        // We're trying to remove a path that doesn't exist, no point in going deeper.
-        // Break and proceed to remove whatever path we found so far.
-        if (entry == null) {
-          partial = true;
-          break;
+      removeLocked(path);
+    }
+  }
+
+  /**
+   * Removes all of the given paths, like {@link #remove(Path)} does, while taking the lock only
+   * once. Paths below another one of the given paths are skipped, as removing that one removes them
+   * as well.
+   *
+   * @param paths The paths specifying the branches to remove.
+   */
+  public void removeAll(Collection<Path> paths) {
+    Set<Path> pathSet = new HashSet<>(paths);
+    synchronized (root) {
+      for (Path path : pathSet) {
+        if (!hasAncestorIn(path, pathSet)) {
+          removeLocked(path);
         }
-        stack.push(entry);
       }
-      // The following approach supports these cases:
-      //   1. Remove a path that has been found as a leaf in the trie (easy case).
-      //   2. If the path does't exist at the root level, then don't even bother removing anything.
-      //   3. We still want to remove paths that "exist partially", that is we haven't found the
-      //       requested leaf, but we have found an intermediate node on the branch.
-      //   4. Similarly, we want to support prefix removal as well (i.e.: if we want to remove an
-      //       intermediate node).
-      if (stack.size() > 1) { // check the size in order to address for case #2.
-        // Let's take the actual (sub)path we're removing, by using the size of the stack (ignoring
-        // the root).
-        path = path.subpath(0, stack.size() - 1);
-        Entry<T> leaf = stack.pop();
-        // If we reached the leaf, then remove the leaf and everything below it (if any).
-        if (partial) {
-          map.remove(leaf.key);
-          if (leaf.size() == 0 && path != null && !stack.empty()) {
-            stack.peek().subLevels.remove(path.getFileName());
-          } else {
-            leaf.set(null);
-          }
-        } else {
-          removeSubtreeFromMap(leaf);
+    }
+  }
+
+  private static boolean hasAncestorIn(Path path, Set<Path> paths) {
+    for (Path parent = path.getParent(); parent != null; parent = parent.getParent()) {
+      if (paths.contains(parent)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // Must be called while owning the root lock.
+  private void removeLocked(Path path) {
+    Stack<Entry<T>> stack = new Stack<>();
+    stack.push(root);
+    Entry<T> entry = root;
+    // Walk the tree to fetch the node requested by the path, or the closest intermediate node.
+    boolean partial = false;
+    for (Path p : path) {
+      entry = entry.subLevels.get(p);
+      // We're trying to remove a path that doesn't exist, no point in going deeper.
+      // Break and proceed to remove whatever path we found so far.
+      if (entry == null) {
+        partial = true;
+        break;
+      }
+      stack.push(entry);
+    }
+    // The following approach supports these cases:
+    //   1. Remove a path that has been found as a leaf in the trie (easy case).
+    //   2. If the path does't exist at the root level, then don't even bother removing anything.
+    //   3. We still want to remove paths that "exist partially", that is we haven't found the
+    //       requested leaf, but we have found an intermediate node on the branch.
+    //   4. Similarly, we want to support prefix removal as well (i.e.: if we want to remove an
+    //       intermediate node).
+    if (stack.size() > 1) { // check the size in order to address for case #2.
+      // Let's take the actual (sub)path we're removing, by using the size of the stack (ignoring
+      // the root).
+      path = path.subpath(0, stack.size() - 1);
+      Entry<T> leaf = stack.pop();
+      // If we reached the leaf, then remove the leaf and everything below it (if any).
+      if (partial) {
+        map.remove(leaf.key);
+        if (leaf.size() == 0 && path != null && !stack.empty()) {
           stack.peek().subLevels.remove(path.getFileName());
+        } else {
+          leaf.set(null);
         }
+      } else {
+        removeSubtreeFromMap(leaf);
+        stack.peek().subLevels.remove(path.getFileName());
+      }
 
-        // Plus, check everything above in order to remove unused stumps.
-        while (!stack.empty()) {
-          // This will never throw NPE because if it does, then the stack was empty at the beginning
-          // of the iteration (we went upper than the root node, which doesn't make sense).
-          path = path.getParent();
-          Entry<T> current = stack.pop();
+      // Plus, check everything above in order to remove unused stumps.
+      while (!stack.empty()) {
+        // This will never throw NPE because if it does, then the stack was empty at the beginning
+        // of the iteration (we went upper than the root node, which doesn't make sense).
+        path = path.getParent();
+        Entry<T> current = stack.pop();
 
-          // Remove only if it's a cached entry.
-          map.remove(current.key);
+        // Remove only if it's a cached entry.
+        map.remove(current.key);
 
-          if (current.size() == 0 && path != null && !stack.empty()) {
-            stack.peek().subLevels.remove(path.getFileName());
-          } else {
-            current.set(null);
-          }
+        if (current.size() == 0 && path != null && !stack.empty()) {
+          stack.peek().subLevels.remove(path.getFileName());
+        } else {
+          current.set(null);
         }
       }
     }
@@ -21,6 +21,7 @@ import com.facebook.buck.io.ArchiveMemberPath;
 import com.google.common.hash.HashCode;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ConcurrentMap;
 import javax.annotation.Nullable;
@@ -44,6 +45,16 @@ public interface FileHashCacheEngine {
 
   void invalidateWithParents(Path path);
 
+  /**
+   * Invalidates all of the given paths along with their parents. Engines which can do this more
+   * cheaply than one path at a time override it.
+   */
+  default void invalidateAllWithParents(Collection<Path> paths) {
+    for (Path path : paths) {
+      invalidateWithParents(path);
+    }
+  }
+
   HashCode get(Path path) throws IOException;
 
   HashCode get(ArchiveMemberPath archiveMemberPath) throws IOException;
@@ -20,6 +20,7 @@ package com.facebook.buck.util.cache;
 public enum FileHashCacheMode {
   LOADING_CACHE,
   PREFIX_TREE,
+  PERSISTENT_PREFIX_TREE,
   LIMITED_PREFIX_TREE,
   LIMITED_PREFIX_TREE_PARALLEL,
   PARALLEL_COMPARISON;
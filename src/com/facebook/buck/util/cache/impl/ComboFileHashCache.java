@@ -25,6 +25,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.hash.HashCode;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
@@ -73,6 +74,13 @@ class ComboFileHashCache implements FileHashCacheEngine {
     }
   }
 
+  @Override
+  public void invalidateAllWithParents(Collection<Path> paths) {
+    for (FileHashCacheEngine fileHashCacheEngine : fileHashCacheEngines) {
+      fileHashCacheEngine.invalidateAllWithParents(paths);
+    }
+  }
+
   @Override
   public HashCode get(Path path) throws IOException {
     List<HashCode> hashes =
@@ -57,6 +57,19 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
       ProjectFilesystem projectFilesystem,
       Predicate<Path> ignoredPredicate,
       FileHashCacheMode fileHashCacheMode) {
+    this(projectFilesystem, ignoredPredicate, fileHashCacheMode, Optional.empty());
+  }
+
+  /**
+   * @param hashStorePath where to persist file hashes between runs when using {@link
+   *     FileHashCacheMode#PERSISTENT_PREFIX_TREE}. Without it, that mode behaves like {@link
+   *     FileHashCacheMode#PREFIX_TREE}.
+   */
+  protected DefaultFileHashCache(
+      ProjectFilesystem projectFilesystem,
+      Predicate<Path> ignoredPredicate,
+      FileHashCacheMode fileHashCacheMode,
+      Optional<Path> hashStorePath) {
     this.projectFilesystem = projectFilesystem;
     this.ignoredPredicate = ignoredPredicate;
     FileHashCacheEngine.ValueLoader<HashCodeAndFileType> hashLoader =
@@ -104,6 +117,13 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
       case PREFIX_TREE:
         fileHashCacheEngine = FileSystemMapFileHashCache.createWithStats(hashLoader, sizeLoader);
         break;
+      case PERSISTENT_PREFIX_TREE:
+        fileHashCacheEngine =
+            hashStorePath.isPresent()
+                ? PersistentFileHashCacheEngine.createWithStats(
+                    projectFilesystem, hashStorePath.get(), hashLoader, sizeLoader)
+                : FileSystemMapFileHashCache.createWithStats(hashLoader, sizeLoader);
+        break;
       case LIMITED_PREFIX_TREE:
         fileHashCacheEngine =
             new StatsTrackingFileHashCacheEngine(
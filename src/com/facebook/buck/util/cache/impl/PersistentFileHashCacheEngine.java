@@ -0,0 +1,356 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.cache.impl;
+
+import com.facebook.buck.event.AbstractBuckEvent;
+import com.facebook.buck.event.FileHashCacheEvent;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.util.cache.DelegatingFileHashCacheEngine;
+import com.facebook.buck.util.cache.FileHashCacheEngine;
+import com.facebook.buck.util.cache.HashCodeAndFileType;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link FileHashCacheEngine} which remembers the hashes of regular files across daemon restarts.
+ *
+ * <p>Every time a file is hashed, its size, modification time and file key (the inode on most
+ * platforms) are recorded alongside the hash. {@link #persist()} writes these records to a file
+ * under buck-out, and a freshly constructed engine reads them back. A persisted hash is only reused
+ * when a file is first requested and its current stat data still matches the recorded one, so
+ * revalidating the on-disk store costs a single stat per file and never rehashes anything up front.
+ */
+class PersistentFileHashCacheEngine extends DelegatingFileHashCacheEngine {
+
+  private static final Logger LOG = Logger.get(PersistentFileHashCacheEngine.class);
+
+  private static final int MAGIC = 0xB0C4F4C5;
+  private static final int VERSION = 1;
+
+  private final ProjectFilesystem filesystem;
+  private final Path storePath;
+  private final Records records;
+
+  private PersistentFileHashCacheEngine(
+      FileHashCacheEngine delegate,
+      ProjectFilesystem filesystem,
+      Path storePath,
+      Records records) {
+    super(delegate);
+    this.filesystem = filesystem;
+    this.storePath = storePath;
+    this.records = records;
+  }
+
+  /**
+   * Creates an engine backed by a prefix tree which seeds the hashes of unchanged files from the
+   * records previously persisted to {@code storePath}.
+   */
+  public static PersistentFileHashCacheEngine createWithStats(
+      ProjectFilesystem filesystem,
+      Path storePath,
+      ValueLoader<HashCodeAndFileType> hashLoader,
+      ValueLoader<Long> sizeLoader) {
+    Records records = new Records(readRecords(filesystem, storePath));
+    ValueLoader<HashCodeAndFileType> revalidatingLoader =
+        path -> records.loadOrReuse(filesystem, path, hashLoader);
+    return new PersistentFileHashCacheEngine(
+        FileSystemMapFileHashCache.createWithStats(revalidatingLoader, sizeLoader),
+        filesystem,
+        storePath,
+        records);
+  }
+
+  @Override
+  public void put(Path path, HashCodeAndFileType value) {
+    // We don't know which version of the file the hash belongs to, so don't persist it.
+    records.forget(path);
+    super.put(path, value);
+  }
+
+  @Override
+  public void invalidate(Path path) {
+    records.forget(path);
+    super.invalidate(path);
+  }
+
+  @Override
+  public void invalidateWithParents(Path path) {
+    records.forget(path);
+    super.invalidateWithParents(path);
+  }
+
+  @Override
+  public void invalidateAllWithParents(Collection<Path> paths) {
+    paths.forEach(records::forget);
+    super.invalidateAllWithParents(paths);
+  }
+
+  @Override
+  public void invalidateAll() {
+    records.forgetAll();
+    super.invalidateAll();
+  }
+
+  @Override
+  public List<AbstractBuckEvent> getStatsEvents() {
+    ImmutableList.Builder<AbstractBuckEvent> eventsBuilder =
+        ImmutableList.<AbstractBuckEvent>builder().addAll(super.getStatsEvents());
+    long reused = records.reusedCount.getAndSet(0);
+    if (reused > 0) {
+      eventsBuilder.add(new FileHashCacheEvent("persistent.reused", 0, 0, reused));
+    }
+    long stale = records.staleCount.getAndSet(0);
+    if (stale > 0) {
+      eventsBuilder.add(new FileHashCacheEvent("persistent.stale", 0, 0, stale));
+    }
+    return eventsBuilder.build();
+  }
+
+  /**
+   * Writes the records of all files hashed so far, plus any previously persisted records which are
+   * still valid, to the store file. The store is replaced atomically, so a crash while persisting
+   * leaves the previous version intact. Nothing is written if no file was hashed or invalidated
+   * since the last time.
+   */
+  public void persist() throws IOException {
+    if (!records.changed.getAndSet(false)) {
+      return;
+    }
+    try {
+      write();
+    } catch (IOException e) {
+      records.changed.set(true);
+      throw e;
+    }
+  }
+
+  private void write() throws IOException {
+    Map<Path, FileHashRecord> toWrite = new HashMap<>();
+    for (Map.Entry<Path, FileHashRecord> entry : records.persisted.entrySet()) {
+      if (entry.getValue().isValidFor(stat(filesystem, entry.getKey()))) {
+        toWrite.put(entry.getKey(), entry.getValue());
+      }
+    }
+    toWrite.putAll(records.current);
+
+    // A unique temporary file, so that concurrent writers never write to the same one.
+    filesystem.createParentDirs(storePath);
+    Path tmpPath =
+        filesystem.createTempFile(storePath.getParent(), storePath.getFileName() + ".", ".tmp");
+    try {
+      try (DataOutputStream out =
+          new DataOutputStream(
+              new BufferedOutputStream(filesystem.newFileOutputStream(tmpPath)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(toWrite.size());
+        for (Map.Entry<Path, FileHashRecord> entry : toWrite.entrySet()) {
+          out.writeUTF(entry.getKey().toString());
+          entry.getValue().writeTo(out);
+        }
+      }
+      filesystem.move(tmpPath, storePath, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      filesystem.deleteFileAtPathIfExists(tmpPath);
+    }
+    LOG.debug("Persisted %d file hashes to %s.", toWrite.size(), storePath);
+  }
+
+  @VisibleForTesting
+  static ConcurrentMap<Path, FileHashRecord> readRecords(
+      ProjectFilesystem filesystem, Path storePath) {
+    ConcurrentMap<Path, FileHashRecord> records = new ConcurrentHashMap<>();
+    if (!filesystem.isFile(storePath)) {
+      return records;
+    }
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(filesystem.newFileInputStream(storePath)))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        LOG.info("Ignoring file hash store %s written in an unknown format.", storePath);
+        return records;
+      }
+      int count = in.readInt();
+      for (int i = 0; i < count; i++) {
+        Path path = filesystem.getRootPath().getFileSystem().getPath(in.readUTF());
+        records.put(path, FileHashRecord.readFrom(in));
+      }
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to read file hash store %s, starting with an empty cache.", storePath);
+      records.clear();
+    }
+    LOG.debug("Read %d persisted file hashes from %s.", records.size(), storePath);
+    return records;
+  }
+
+  /** @return the stat data used to revalidate the hash of a regular file, or null for others. */
+  @Nullable
+  private static FileHashRecord stat(ProjectFilesystem filesystem, Path path) {
+    try {
+      BasicFileAttributes attributes =
+          filesystem.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+      // Symlinks and directories can change without their own stat data changing.
+      if (!attributes.isRegularFile() || attributes.lastModifiedTime() == null) {
+        return null;
+      }
+      return new FileHashRecord(
+          attributes.size(),
+          attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS),
+          Objects.toString(attributes.fileKey(), ""),
+          null);
+    } catch (IOException | UnsupportedOperationException e) {
+      return null;
+    }
+  }
+
+  /** The records read from disk and the records of the files hashed during this run. */
+  private static class Records {
+    private final ConcurrentMap<Path, FileHashRecord> persisted;
+    private final ConcurrentMap<Path, FileHashRecord> current = new ConcurrentHashMap<>();
+    private final AtomicLong reusedCount = new AtomicLong();
+    private final AtomicLong staleCount = new AtomicLong();
+    // Whether the records differ from the ones last persisted.
+    private final AtomicBoolean changed = new AtomicBoolean();
+
+    private Records(ConcurrentMap<Path, FileHashRecord> persisted) {
+      this.persisted = persisted;
+    }
+
+    private HashCodeAndFileType loadOrReuse(
+        ProjectFilesystem filesystem, Path path, ValueLoader<HashCodeAndFileType> hashLoader) {
+      // Stat before hashing, so that a change while we hash shows up as a mismatch next time.
+      FileHashRecord stat = stat(filesystem, path);
+      if (stat == null) {
+        persisted.remove(path);
+        return hashLoader.load(path);
+      }
+
+      HashCodeAndFileType value;
+      FileHashRecord previous = persisted.remove(path);
+      if (previous != null && previous.isValidFor(stat)) {
+        reusedCount.incrementAndGet();
+        HashCode hashCode = Preconditions.checkNotNull(previous.hashCode);
+        value =
+            path.toString().endsWith(".jar")
+                ? HashCodeAndFileType.ofArchive(
+                    hashCode, new DefaultJarContentHasher(filesystem, path))
+                : HashCodeAndFileType.ofFile(hashCode);
+      } else {
+        if (previous != null) {
+          staleCount.incrementAndGet();
+        }
+        value = hashLoader.load(path);
+        changed.set(true);
+      }
+      if (value.getType() != HashCodeAndFileType.Type.DIRECTORY) {
+        current.put(path, stat.withHashCode(value.getHashCode()));
+      }
+      return value;
+    }
+
+    private void forget(Path path) {
+      FileHashRecord persistedRecord = persisted.remove(path);
+      FileHashRecord currentRecord = current.remove(path);
+      if (persistedRecord != null || currentRecord != null) {
+        changed.set(true);
+      }
+    }
+
+    private void forgetAll() {
+      // Persisted records are revalidated from stat data before use, so they can stay.
+      if (!current.isEmpty()) {
+        current.clear();
+        changed.set(true);
+      }
+    }
+  }
+
+  @VisibleForTesting
+  static final class FileHashRecord {
+    private final long size;
+    private final long modificationTimeNanos;
+    private final String fileKey;
+    @Nullable private final HashCode hashCode;
+
+    private FileHashRecord(
+        long size, long modificationTimeNanos, String fileKey, @Nullable HashCode hashCode) {
+      this.size = size;
+      this.modificationTimeNanos = modificationTimeNanos;
+      this.fileKey = fileKey;
+      this.hashCode = hashCode;
+    }
+
+    private FileHashRecord withHashCode(HashCode hashCode) {
+      return new FileHashRecord(size, modificationTimeNanos, fileKey, hashCode);
+    }
+
+    private boolean isValidFor(@Nullable FileHashRecord stat) {
+      return stat != null
+          && hashCode != null
+          && size == stat.size
+          && modificationTimeNanos == stat.modificationTimeNanos
+          && fileKey.equals(stat.fileKey);
+    }
+
+    @Nullable
+    HashCode getHashCode() {
+      return hashCode;
+    }
+
+    private void writeTo(DataOutputStream out) throws IOException {
+      byte[] hashBytes = Preconditions.checkNotNull(hashCode).asBytes();
+      out.writeLong(size);
+      out.writeLong(modificationTimeNanos);
+      out.writeUTF(fileKey);
+      out.writeByte(hashBytes.length);
+      out.write(hashBytes);
+    }
+
+    private static FileHashRecord readFrom(DataInputStream in) throws IOException {
+      long size = in.readLong();
+      long modificationTimeNanos = in.readLong();
+      String fileKey = in.readUTF();
+      byte[] hashBytes = new byte[in.readUnsignedByte()];
+      in.readFully(hashBytes);
+      return new FileHashRecord(
+          size, modificationTimeNanos, fileKey, HashCode.fromBytes(hashBytes));
+    }
+  }
+}
@@ -16,21 +16,71 @@
 
 package com.facebook.buck.util.cache.impl;
 
+import com.facebook.buck.event.AbstractBuckEvent;
+import com.facebook.buck.event.FileHashCacheEvent;
+import com.facebook.buck.io.ArchiveMemberPath;
 import com.facebook.buck.io.WatchmanOverflowEvent;
 import com.facebook.buck.io.WatchmanPathEvent;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.log.Logger;
 import com.facebook.buck.util.cache.FileHashCacheMode;
+import com.facebook.buck.util.cache.FileHashCacheVerificationResult;
+import com.google.common.collect.ImmutableList;
 import com.google.common.eventbus.Subscribe;
+import com.google.common.hash.HashCode;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * A {@link DefaultFileHashCache} which is kept up to date by the file change events Watchman
+ * delivers.
+ *
+ * <p>Watchman delivers the changes since the last command as a burst of path events before the
+ * command starts, which can be hundreds of thousands of events after a large rebase. The events
+ * only queue their paths, and the queued paths are invalidated together in a single sweep of the
+ * engine before the cache is next read, so neither the events nor reads of unchanged entries
+ * contend on a lock.
+ */
 public class WatchedFileHashCache extends DefaultFileHashCache {
 
   private static final Logger LOG = Logger.get(WatchedFileHashCache.class);
 
+  private final Queue<Path> pendingInvalidations = new ConcurrentLinkedQueue<>();
+  // Only decremented once the paths have been invalidated, so that readers which see pending
+  // invalidations wait for any sweep in progress.
+  private final AtomicInteger pendingInvalidationCount = new AtomicInteger();
+  private final Object invalidationLock = new Object();
+
+  // Guarded by invalidationLock.
+  private long coalescedEvents = 0;
+  private long invalidationSweeps = 0;
+  private long invalidationNanoTime = 0;
+
   public WatchedFileHashCache(
       ProjectFilesystem projectFilesystem, FileHashCacheMode fileHashCacheMode) {
-    super(projectFilesystem, getDefaultPathPredicate(projectFilesystem), fileHashCacheMode);
+    super(
+        projectFilesystem,
+        getDefaultPathPredicate(projectFilesystem),
+        fileHashCacheMode,
+        Optional.of(projectFilesystem.getBuckPaths().getFileHashCacheFile()));
+  }
+
+  /**
+   * Writes the hashes computed so far to disk, so that a new daemon can start with a warm cache.
+   * This is a noop unless the cache uses {@link FileHashCacheMode#PERSISTENT_PREFIX_TREE}.
+   */
+  public synchronized void persist() throws IOException {
+    applyPendingInvalidations();
+    if (fileHashCacheEngine instanceof PersistentFileHashCacheEngine) {
+      ((PersistentFileHashCacheEngine) fileHashCacheEngine).persist();
+    }
   }
 
   /**
@@ -39,18 +89,117 @@ public class WatchedFileHashCache extends DefaultFileHashCache {
    * {@link ProjectFilesystem} root.
    */
   @Subscribe
-  public synchronized void onFileSystemChange(WatchmanPathEvent event) {
+  public void onFileSystemChange(WatchmanPathEvent event) {
     // Path event, remove the path from the cache as it has been changed, added or deleted.
     Path path = event.getPath().normalize();
     LOG.verbose("Invalidating %s", path);
-    fileHashCacheEngine.invalidateWithParents(path);
+    pendingInvalidations.add(path);
+    pendingInvalidationCount.incrementAndGet();
   }
 
   @SuppressWarnings("unused")
   @Subscribe
-  public synchronized void onFileSystemChange(WatchmanOverflowEvent event) {
+  public void onFileSystemChange(WatchmanOverflowEvent event) {
     // Non-path change event, likely an overflow due to many change events: invalidate everything.
     LOG.debug("Invalidating all");
-    invalidateAll();
+    synchronized (invalidationLock) {
+      int discarded = 0;
+      while (pendingInvalidations.poll() != null) {
+        discarded++;
+      }
+      invalidateAll();
+      pendingInvalidationCount.addAndGet(-discarded);
+    }
+  }
+
+  /** Invalidates the paths queued by path events since the cache was last read. */
+  private void applyPendingInvalidations() {
+    if (pendingInvalidationCount.get() <= 0) {
+      return;
+    }
+    synchronized (invalidationLock) {
+      List<Path> paths = new ArrayList<>();
+      Path path;
+      while ((path = pendingInvalidations.poll()) != null) {
+        paths.add(path);
+      }
+      if (paths.isEmpty()) {
+        return;
+      }
+      long start = System.nanoTime();
+      fileHashCacheEngine.invalidateAllWithParents(paths);
+      long elapsed = System.nanoTime() - start;
+      pendingInvalidationCount.addAndGet(-paths.size());
+
+      coalescedEvents += paths.size();
+      invalidationSweeps++;
+      invalidationNanoTime += elapsed;
+      LOG.debug(
+          "Invalidated %d paths in %d ms", paths.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+  }
+
+  @Override
+  public boolean willGet(Path relativePath) {
+    applyPendingInvalidations();
+    return super.willGet(relativePath);
+  }
+
+  @Override
+  public HashCode get(Path relativePath) throws IOException {
+    applyPendingInvalidations();
+    return super.get(relativePath);
+  }
+
+  @Override
+  public long getSize(Path relativePath) throws IOException {
+    applyPendingInvalidations();
+    return super.getSize(relativePath);
+  }
+
+  @Override
+  public Optional<HashCode> getIfPresent(Path relativePath) {
+    applyPendingInvalidations();
+    return super.getIfPresent(relativePath);
+  }
+
+  @Override
+  public HashCode get(ArchiveMemberPath archiveMemberPath) throws IOException {
+    applyPendingInvalidations();
+    return super.get(archiveMemberPath);
+  }
+
+  @Override
+  public void set(Path relativePath, HashCode hashCode) throws IOException {
+    applyPendingInvalidations();
+    super.set(relativePath, hashCode);
+  }
+
+  @Override
+  public FileHashCacheVerificationResult verify() throws IOException {
+    applyPendingInvalidations();
+    return super.verify();
+  }
+
+  @Override
+  public List<AbstractBuckEvent> getStatsEvents() {
+    ImmutableList.Builder<AbstractBuckEvent> eventsBuilder =
+        ImmutableList.<AbstractBuckEvent>builder().addAll(super.getStatsEvents());
+    synchronized (invalidationLock) {
+      if (invalidationSweeps > 0) {
+        eventsBuilder.add(
+            new FileHashCacheEvent("watched.coalesced_events", 0, 0, coalescedEvents));
+        eventsBuilder.add(
+            new FileHashCacheEvent(
+                "watched.invalidation_sweep",
+                invalidationNanoTime / invalidationSweeps,
+                invalidationNanoTime,
+                invalidationSweeps));
+      }
+      coalescedEvents = 0;
+      invalidationSweeps = 0;
+      invalidationNanoTime = 0;
+    }
+    return eventsBuilder.build();
   }
 }
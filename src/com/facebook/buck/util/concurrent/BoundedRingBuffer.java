@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.concurrent;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nullable;
+
+/**
+ * A bounded, lock-free multi-producer multi-consumer queue backed by an array.
+ *
+ * <p>Every slot carries a sequence number which tells producers and consumers whose turn it is to
+ * use the slot, so offering and polling only take a single compare-and-set on the happy path and
+ * never block. {@link #offer(Object)} returns {@code false} instead of waiting when the buffer is
+ * full.
+ */
+public class BoundedRingBuffer<T> {
+
+  private final int mask;
+  private final AtomicReferenceArray<T> elements;
+  private final AtomicLongArray sequences;
+  private final AtomicLong enqueuePosition = new AtomicLong();
+  private final AtomicLong dequeuePosition = new AtomicLong();
+
+  /** @param capacity the number of elements the buffer can hold, which must be a power of two. */
+  public BoundedRingBuffer(int capacity) {
+    Preconditions.checkArgument(
+        capacity > 0 && Integer.bitCount(capacity) == 1,
+        "Capacity must be a positive power of two: %s",
+        capacity);
+    this.mask = capacity - 1;
+    this.elements = new AtomicReferenceArray<>(capacity);
+    this.sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /** @return whether the element was added, or {@code false} if the buffer is full. */
+  public boolean offer(T element) {
+    Preconditions.checkNotNull(element);
+    while (true) {
+      long position = enqueuePosition.get();
+      int index = (int) position & mask;
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (enqueuePosition.compareAndSet(position, position + 1)) {
+          elements.set(index, element);
+          sequences.set(index, position + 1);
+          return true;
+        }
+      } else if (difference < 0) {
+        return false;
+      }
+    }
+  }
+
+  /** @return the oldest element of the buffer, or {@code null} if it is empty. */
+  @Nullable
+  public T poll() {
+    while (true) {
+      long position = dequeuePosition.get();
+      int index = (int) position & mask;
+      long difference = sequences.get(index) - (position + 1);
+      if (difference == 0) {
+        if (dequeuePosition.compareAndSet(position, position + 1)) {
+          T element = elements.get(index);
+          elements.set(index, null);
+          sequences.set(index, position + mask + 1);
+          return element;
+        }
+      } else if (difference < 0) {
+        return null;
+      }
+    }
+  }
+
+  /**
+   * @return the number of elements in the buffer. This is only a snapshot when other threads are
+   *     using the buffer.
+   */
+  public int size() {
+    while (true) {
+      long dequeued = dequeuePosition.get();
+      long enqueued = enqueuePosition.get();
+      if (dequeued == dequeuePosition.get()) {
+        return (int) Math.max(0, Math.min(enqueued - dequeued, mask + 1));
+      }
+    }
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  public int capacity() {
+    return mask + 1;
+  }
+}
@@ -17,6 +17,7 @@
 package com.facebook.buck.util.concurrent;
 
 import com.google.common.base.Preconditions;
+import java.util.OptionalLong;
 
 /** Amalgamation of parameters that control how many jobs we can run at once. */
 public class ConcurrencyLimit {
@@ -35,6 +36,11 @@ public class ConcurrencyLimit {
   public final ResourceAmounts defaultAmounts;
   /** Maximum resource amounts that are available on the system for all jobs to share. */
   public final ResourceAmounts maximumAmounts;
+  /**
+   * Memory of the host jobs should leave available, if jobs should be held back when the host runs
+   * low on memory. See {@link SystemMemoryHeadroom}.
+   */
+  public final OptionalLong systemMemoryReserveBytes;
 
   public ConcurrencyLimit(
       int threadLimit,
@@ -42,11 +48,28 @@ public class ConcurrencyLimit {
       int managedThreadCount,
       ResourceAmounts defaultAmounts,
       ResourceAmounts maximumAmounts) {
+    this(
+        threadLimit,
+        resourceAllocationFairness,
+        managedThreadCount,
+        defaultAmounts,
+        maximumAmounts,
+        OptionalLong.empty());
+  }
+
+  public ConcurrencyLimit(
+      int threadLimit,
+      ResourceAllocationFairness resourceAllocationFairness,
+      int managedThreadCount,
+      ResourceAmounts defaultAmounts,
+      ResourceAmounts maximumAmounts,
+      OptionalLong systemMemoryReserveBytes) {
     this.threadLimit = threadLimit;
     this.resourceAllocationFairness = resourceAllocationFairness;
     this.managedThreadCount = managedThreadCount;
     this.defaultAmounts = defaultAmounts;
     this.maximumAmounts = maximumAmounts;
+    this.systemMemoryReserveBytes = systemMemoryReserveBytes;
 
     Preconditions.checkArgument(
         threadLimit <= managedThreadCount,
@@ -23,23 +23,54 @@ import com.google.common.util.concurrent.SettableFuture;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
 
 /**
  * A semaphore using {@link ListenableFuture}s for acquisition of different resource types rather
  * than blocking.
+ *
+ * <p>Resources are acquired and released by compare-and-set on the used amounts, so requests which
+ * can be granted right away never take a lock. Only requests which must wait, and releases while
+ * there are such requests, lock the queue of pending requests. A request marks itself as waiting
+ * before it checks the used amounts for the last time, and a release frees its amounts before it
+ * checks for waiting requests, so either the request sees the freed amounts or the release sees
+ * the request.
+ *
+ * <p>Memory can additionally be limited by what the host has left: while other requests hold
+ * memory, a request is only granted if it needs no more memory than the given headroom reports.
+ * A request is always granted memory when nothing else holds any, so that the semaphore can't stall
+ * when something outside of it uses up the memory of the host.
  */
 public class ListeningMultiSemaphore {
 
-  private ResourceAmounts usedValues;
+  private final AtomicReference<ResourceAmounts> usedValues =
+      new AtomicReference<>(ResourceAmounts.ZERO);
+  private final AtomicInteger waitingCount = new AtomicInteger();
   private final ResourceAmounts maximumValues;
+  // Guarded by itself.
   private final List<ListeningSemaphoreArrayPendingItem> pending = new LinkedList<>();
   private final ResourceAllocationFairness fairness;
+  private final IntSupplier memoryHeadroom;
 
   public ListeningMultiSemaphore(
       ResourceAmounts availableResources, ResourceAllocationFairness fairness) {
-    this.usedValues = ResourceAmounts.ZERO;
+    this(availableResources, fairness, () -> Integer.MAX_VALUE);
+  }
+
+  /**
+   * @param memoryHeadroom the memory resource units the host can still spare, see {@link
+   *     SystemMemoryHeadroom}.
+   */
+  public ListeningMultiSemaphore(
+      ResourceAmounts availableResources,
+      ResourceAllocationFairness fairness,
+      IntSupplier memoryHeadroom) {
     this.maximumValues = availableResources;
     this.fairness = fairness;
+    this.memoryHeadroom = memoryHeadroom;
   }
 
   /**
@@ -52,19 +83,53 @@ public class ListeningMultiSemaphore {
    *     amounts, they will be capped to them.
    * @return Future that will be completed once resource will be acquired.
    */
-  public synchronized ListenableFuture<Void> acquire(ResourceAmounts resources) {
+  public ListenableFuture<Void> acquire(ResourceAmounts resources) {
+    return acquire(resources, 0);
+  }
+
+  /**
+   * Like {@link #acquire(ResourceAmounts)}, but if the resources aren't available right away, the
+   * request waits ahead of all pending requests with a lower priority. Requests with the same
+   * priority are served in the order they were made.
+   *
+   * @param resources Resource amounts that need to be acquired.
+   * @param priority Priority of the request while it is pending.
+   * @return Future that will be completed once resource will be acquired.
+   */
+  public ListenableFuture<Void> acquire(ResourceAmounts resources, long priority) {
     if (resources.equals(ResourceAmounts.ZERO)) {
       return Futures.immediateFuture(null);
     }
 
     resources = capResourceAmounts(resources);
-    if (!checkIfResourcesAvailable(resources)) {
-      SettableFuture<Void> pendingFuture = SettableFuture.create();
-      pending.add(ListeningSemaphoreArrayPendingItem.of(pendingFuture, resources));
-      return pendingFuture;
+    if (tryAcquire(resources, 0)) {
+      return Futures.immediateFuture(null);
+    }
+
+    SettableFuture<Void> pendingFuture = SettableFuture.create();
+    synchronized (pending) {
+      waitingCount.incrementAndGet();
+      if (tryAcquire(resources, 0)) {
+        waitingCount.decrementAndGet();
+        return Futures.immediateFuture(null);
+      }
+      addPendingItem(ListeningSemaphoreArrayPendingItem.of(pendingFuture, resources, priority));
     }
-    increaseUsedResources(resources);
-    return Futures.immediateFuture(null);
+    return pendingFuture;
+  }
+
+  private void addPendingItem(ListeningSemaphoreArrayPendingItem item) {
+    // Search from the end, so that requests which all have the same priority are appended in
+    // constant time.
+    ListIterator<ListeningSemaphoreArrayPendingItem> iterator =
+        pending.listIterator(pending.size());
+    while (iterator.hasPrevious()) {
+      if (iterator.previous().getPriority() >= item.getPriority()) {
+        iterator.next();
+        break;
+      }
+    }
+    iterator.add(item);
   }
 
   /**
@@ -80,37 +145,43 @@ public class ListeningMultiSemaphore {
 
     resources = capResourceAmounts(resources);
     decreaseUsedResources(resources);
-    processPendingFutures(getPendingItemsThatCanBeProcessed());
+    if (waitingCount.get() > 0) {
+      processPendingFutures(getPendingItemsThatCanBeProcessed());
+    }
   }
 
-  private synchronized ImmutableList<ListeningSemaphoreArrayPendingItem>
-      getPendingItemsThatCanBeProcessed() {
+  private ImmutableList<ListeningSemaphoreArrayPendingItem> getPendingItemsThatCanBeProcessed() {
     ImmutableList.Builder<ListeningSemaphoreArrayPendingItem> builder = ImmutableList.builder();
 
-    Iterator<ListeningSemaphoreArrayPendingItem> iterator = pending.iterator();
-    while (!getAvailableResources().equals(ResourceAmounts.ZERO) && iterator.hasNext()) {
-      ListeningSemaphoreArrayPendingItem item = iterator.next();
-      if (checkIfResourcesAvailable(item.getResources())) {
-        builder.add(item);
-        increaseUsedResources(item.getResources());
-        iterator.remove();
-      } else if (!fairnessAllowsReordering()) {
-        break;
+    synchronized (pending) {
+      // The memory granted here isn't in use yet, so the headroom doesn't reflect it.
+      int grantedMemory = 0;
+      Iterator<ListeningSemaphoreArrayPendingItem> iterator = pending.iterator();
+      while (!getAvailableResources().equals(ResourceAmounts.ZERO) && iterator.hasNext()) {
+        ListeningSemaphoreArrayPendingItem item = iterator.next();
+        if (tryAcquire(item.getResources(), grantedMemory)) {
+          builder.add(item);
+          grantedMemory += item.getResources().getMemory();
+          iterator.remove();
+          waitingCount.decrementAndGet();
+        } else if (!fairnessAllowsReordering()) {
+          break;
+        }
       }
     }
     return builder.build();
   }
 
-  public synchronized ResourceAmounts getAvailableResources() {
-    return maximumValues.subtract(usedValues);
+  public ResourceAmounts getAvailableResources() {
+    return maximumValues.subtract(usedValues.get());
   }
 
-  public synchronized ResourceAmounts getMaximumValues() {
+  public ResourceAmounts getMaximumValues() {
     return maximumValues;
   }
 
-  public synchronized int getQueueLength() {
-    return pending.size();
+  public int getQueueLength() {
+    return waitingCount.get();
   }
 
   /**
@@ -126,28 +197,52 @@ public class ListeningMultiSemaphore {
         Math.min(amounts.getNetworkIO(), maximumValues.getNetworkIO()));
   }
 
-  private synchronized boolean checkIfResourcesAvailable(ResourceAmounts resources) {
+  /**
+   * Adds the given amounts to the used amounts if they are available.
+   *
+   * @param grantedMemory memory granted which isn't in use yet, and so isn't reflected in the
+   *     memory headroom.
+   */
+  private boolean tryAcquire(ResourceAmounts resources, int grantedMemory) {
     Preconditions.checkState(
         resources.allValuesLessThanOrEqual(maximumValues),
         "Resource amounts (%s) must be capped to the maximum amounts (%s)",
         resources,
         maximumValues);
-    return usedValues.append(resources).allValuesLessThanOrEqual(maximumValues);
+    while (true) {
+      ResourceAmounts used = usedValues.get();
+      ResourceAmounts updated = used.append(resources);
+      if (!updated.allValuesLessThanOrEqual(maximumValues)
+          || !isMemoryAvailable(used, resources, grantedMemory)) {
+        return false;
+      }
+      if (usedValues.compareAndSet(used, updated)) {
+        return true;
+      }
+    }
   }
 
-  private synchronized void increaseUsedResources(ResourceAmounts resources) {
-    usedValues = usedValues.append(resources);
+  /** Only asks for the headroom when it matters, as finding it out may take a system call. */
+  private boolean isMemoryAvailable(ResourceAmounts used, ResourceAmounts resources, int granted) {
+    return resources.getMemory() == 0
+        || used.getMemory() == 0
+        || resources.getMemory() <= memoryHeadroom.getAsInt() - granted;
   }
 
-  private synchronized void decreaseUsedResources(ResourceAmounts resources) {
-    ResourceAmounts updatedAmounts = usedValues.subtract(resources);
-    Preconditions.checkArgument(
-        !updatedAmounts.containsValuesLessThan(ResourceAmounts.ZERO),
-        "Cannot increase available resources by %s. Current: %s, Maximum: %s",
-        resources,
-        usedValues,
-        maximumValues);
-    usedValues = updatedAmounts;
+  private void decreaseUsedResources(ResourceAmounts resources) {
+    while (true) {
+      ResourceAmounts used = usedValues.get();
+      ResourceAmounts updated = used.subtract(resources);
+      Preconditions.checkArgument(
+          !updated.containsValuesLessThan(ResourceAmounts.ZERO),
+          "Cannot increase available resources by %s. Current: %s, Maximum: %s",
+          resources,
+          used,
+          maximumValues);
+      if (usedValues.compareAndSet(used, updated)) {
+        return;
+      }
+    }
   }
 
   private void processPendingFutures(ImmutableList<ListeningSemaphoreArrayPendingItem> items) {
@@ -40,15 +40,25 @@ public class MostExecutors {
 
     private final AtomicInteger threadCount = new AtomicInteger(0);
     private final String threadName;
+    private final boolean daemon;
 
     public NamedThreadFactory(String threadName) {
+      this(threadName, false);
+    }
+
+    /** @param daemon whether the threads should not keep the JVM from exiting. */
+    public NamedThreadFactory(String threadName, boolean daemon) {
       this.threadName = threadName;
+      this.daemon = daemon;
     }
 
     @Override
     public Thread newThread(Runnable r) {
       Thread newThread = Executors.defaultThreadFactory().newThread(r);
       newThread.setName(String.format(threadName + "-%d", threadCount.incrementAndGet()));
+      if (daemon) {
+        newThread.setDaemon(true);
+      }
       return newThread;
     }
   }
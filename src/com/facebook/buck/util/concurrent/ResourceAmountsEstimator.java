@@ -15,14 +15,36 @@
  */
 package com.facebook.buck.util.concurrent;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+
 public class ResourceAmountsEstimator {
 
   /** CPU resource amount is considered as number of cores. Each core can perform a single job. */
   public static final int DEFAULT_CPU_CAP = Runtime.getRuntime().availableProcessors();
 
   /** Memory resource unit size has been chosen arbitrarily. We can tune the value if we need. */
+  public static final long MEMORY_UNIT_BYTES = 100 * 1024 * 1024;
+
   public static final int DEFAULT_MEMORY_CAP =
-      (int) (Runtime.getRuntime().maxMemory() / (100 * 1024 * 1024));
+      (int) (Runtime.getRuntime().maxMemory() / MEMORY_UNIT_BYTES);
+
+  /**
+   * The memory cap to use when memory amounts are measured from the processes build rules launch,
+   * which live outside of the Java heap: the physical memory of the host, or {@link
+   * #DEFAULT_MEMORY_CAP} if the JVM doesn't report it.
+   */
+  public static int getPhysicalMemoryCap() {
+    OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
+    if (osBean instanceof com.sun.management.OperatingSystemMXBean) {
+      long physicalBytes =
+          ((com.sun.management.OperatingSystemMXBean) osBean).getTotalPhysicalMemorySize();
+      if (physicalBytes > 0) {
+        return (int) Math.min(Integer.MAX_VALUE, physicalBytes / MEMORY_UNIT_BYTES);
+      }
+    }
+    return DEFAULT_MEMORY_CAP;
+  }
 
   /**
    * Disk IO resource unit size has been chosen arbitrarily. Since most of the jobs are light, we
@@ -30,6 +52,9 @@ public class ResourceAmountsEstimator {
    */
   public static final int DEFAULT_DISK_IO_CAP = 50;
 
+  /** The disk throughput a single disk IO resource unit stands for when it is measured. */
+  public static final long DISK_IO_UNIT_BYTES_PER_SECOND = 10 * 1024 * 1024;
+
   /**
    * Network IO resource unit size has been chosen arbitrarily. Since most of the jobs are light, we
    * think network can handle this amount of light jobs: sending/receiving some small data.
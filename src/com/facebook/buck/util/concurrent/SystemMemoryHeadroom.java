@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.concurrent;
+
+import com.facebook.buck.log.Logger;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Suppliers;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * How many more memory resource units jobs can take before the available memory of the host drops
+ * below a reserve. {@link ListeningMultiSemaphore} holds back jobs which need more than that while
+ * other jobs are running, whatever the maximum amounts it was configured with say.
+ *
+ * <p>On Linux the available memory is {@code MemAvailable} from /proc/meminfo, which unlike the
+ * free memory includes the page cache the kernel can reclaim. Elsewhere the available memory is
+ * unknown, as the free physical memory the JVM reports leaves out the memory the system can reclaim
+ * on demand, and no jobs are held back. Readings are reused for a short while, as jobs are acquired
+ * and released far more often than the memory of the host changes.
+ */
+public class SystemMemoryHeadroom implements IntSupplier {
+  private static final Logger LOG = Logger.get(SystemMemoryHeadroom.class);
+
+  private static final Path MEMINFO = Paths.get("/proc/meminfo");
+  private static final String MEM_AVAILABLE = "MemAvailable:";
+  private static final long READING_EXPIRATION_MILLIS = 250;
+
+  private final long reserveBytes;
+  private final Supplier<Long> availableBytes;
+
+  @VisibleForTesting
+  SystemMemoryHeadroom(long reserveBytes, Supplier<Long> availableBytes) {
+    this.reserveBytes = reserveBytes;
+    this.availableBytes = availableBytes;
+  }
+
+  /** @param reserveBytes the memory of the host jobs should leave available. */
+  public static SystemMemoryHeadroom withReserve(long reserveBytes) {
+    return new SystemMemoryHeadroom(
+        reserveBytes,
+        Suppliers.memoizeWithExpiration(
+                SystemMemoryHeadroom::readAvailableBytes,
+                READING_EXPIRATION_MILLIS,
+                TimeUnit.MILLISECONDS)
+            ::get);
+  }
+
+  /**
+   * @return the memory resource units available beyond the reserve, or {@link Integer#MAX_VALUE}
+   *     if the available memory of the host is unknown.
+   */
+  @Override
+  public int getAsInt() {
+    long available = availableBytes.get();
+    if (available < 0) {
+      return Integer.MAX_VALUE;
+    }
+    long units = (available - reserveBytes) / ResourceAmountsEstimator.MEMORY_UNIT_BYTES;
+    return (int) Math.max(0, Math.min(Integer.MAX_VALUE, units));
+  }
+
+  private static long readAvailableBytes() {
+    if (Files.isReadable(MEMINFO)) {
+      try {
+        for (String line : Files.readAllLines(MEMINFO, StandardCharsets.US_ASCII)) {
+          if (line.startsWith(MEM_AVAILABLE)) {
+            // The line looks like "MemAvailable:   12345678 kB".
+            String kilobytes = line.substring(MEM_AVAILABLE.length()).trim().split("\\s+")[0];
+            return Long.parseLong(kilobytes) * 1024;
+          }
+        }
+      } catch (IOException | NumberFormatException e) {
+        LOG.debug(e, "Failed to read the available memory from %s.", MEMINFO);
+      }
+    }
+    return -1;
+  }
+}
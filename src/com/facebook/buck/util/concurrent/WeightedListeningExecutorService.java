@@ -30,6 +30,9 @@ import javax.annotation.Nullable;
  * A {@link ListeningExecutorService} which gates execution using a {@link ListeningMultiSemaphore}
  * and allows resources to be assigned to submitted tasks.
  *
+ * <p>Tasks which have to wait for their resources are started in order of their priority, see
+ * {@link #withPriority(long)}.
+ *
  * <p>NOTE: If futures for submitted jobs are cancelled while they are running, it's possible that
  * the semaphore will be released for that cancelled job before it is finished, meaning more jobs
  * may be scheduled than expected.
@@ -38,14 +41,24 @@ public class WeightedListeningExecutorService extends AbstractListeningExecutorS
   private final ListeningMultiSemaphore semaphore;
   private final ResourceAmounts defaultValues;
   private final ListeningExecutorService delegate;
+  private final long priority;
 
   public WeightedListeningExecutorService(
       ListeningMultiSemaphore semaphore,
       ResourceAmounts defaultValues,
       ListeningExecutorService delegate) {
+    this(semaphore, defaultValues, delegate, 0);
+  }
+
+  private WeightedListeningExecutorService(
+      ListeningMultiSemaphore semaphore,
+      ResourceAmounts defaultValues,
+      ListeningExecutorService delegate,
+      long priority) {
     this.semaphore = semaphore;
     this.defaultValues = defaultValues;
     this.delegate = delegate;
+    this.priority = priority;
   }
 
   public ListeningMultiSemaphore getSemaphore() {
@@ -65,14 +78,30 @@ public class WeightedListeningExecutorService extends AbstractListeningExecutorS
     if (newDefaultAmounts.equals(defaultValues)) {
       return this;
     }
-    return new WeightedListeningExecutorService(semaphore, newDefaultAmounts, delegate);
+    return new WeightedListeningExecutorService(semaphore, newDefaultAmounts, delegate, priority);
+  }
+
+  /**
+   * Creates a new service whose tasks wait for their resources with the given priority. Tasks with
+   * a higher priority are started before tasks with a lower one once the resources they need are
+   * released. The default priority is 0.
+   *
+   * @param newPriority priority of the tasks submitted to the new service
+   * @return Service that uses the same semaphore, delegate and default amounts but with the given
+   *     priority.
+   */
+  public WeightedListeningExecutorService withPriority(long newPriority) {
+    if (newPriority == priority) {
+      return this;
+    }
+    return new WeightedListeningExecutorService(semaphore, defaultValues, delegate, newPriority);
   }
 
   private <T> ListenableFuture<T> submitWithSemaphore(
       final Callable<T> callable, final ResourceAmounts amounts) {
     ListenableFuture<T> future =
         Futures.transformAsync(
-            semaphore.acquire(amounts),
+            semaphore.acquire(amounts, priority),
             input -> {
               try {
                 return Futures.immediateFuture(callable.call());
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.trace;
+
+import com.google.common.io.ByteStreams;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.ZipException;
+
+/**
+ * A compact binary encoding of Chrome traces, which is much cheaper to write than their JSON form
+ * and can be converted to it when a trace is read.
+ *
+ * <p>A trace starts with {@link #MAGIC} and the version of the format, followed by a DEFLATE stream
+ * of records. Each record is a type byte followed by its fields. A {@link #STRING} record adds a
+ * string to the string table, where it gets the next id, starting at 1. An {@link #EVENT} record
+ * refers to the category, name and argument keys of the event by their ids, so that they are only
+ * written once per trace. Integers are written as variable length integers, signed ones
+ * zigzag-encoded, and timestamps as the difference to the timestamp of the previous event, or of
+ * the previous event of the same thread for thread timestamps. An {@link #END} record ends the
+ * trace.
+ */
+public class BinaryTrace {
+
+  static final int MAGIC = 0x42545243; // "BTRC"
+  static final byte VERSION = 1;
+
+  static final byte END = 0;
+  static final byte STRING = 1;
+  static final byte EVENT = 2;
+
+  // Tags of the values of event arguments.
+  static final byte VALUE_NULL = 0;
+  static final byte VALUE_STRING_REF = 1;
+  static final byte VALUE_STRING = 2;
+  static final byte VALUE_LONG = 3;
+  static final byte VALUE_DOUBLE = 4;
+  static final byte VALUE_FALSE = 5;
+  static final byte VALUE_TRUE = 6;
+  static final byte VALUE_JSON = 7;
+
+  /** Utility class: do not instantiate. */
+  private BinaryTrace() {}
+
+  /**
+   * Checks whether the stream holds a binary trace, without consuming any of it.
+   *
+   * @param stream a stream which supports {@link InputStream#mark(int)}.
+   */
+  public static boolean isBinaryTrace(InputStream stream) throws IOException {
+    stream.mark(4);
+    try {
+      int magic = 0;
+      for (int i = 0; i < 4; i++) {
+        int b = stream.read();
+        if (b < 0) {
+          return false;
+        }
+        magic = (magic << 8) | b;
+      }
+      return magic == MAGIC;
+    } finally {
+      stream.reset();
+    }
+  }
+
+  /**
+   * Converts the binary trace read from {@code input} to a trace in the JSON array format. The
+   * input stream is closed once the trace was read, the output stream is left open.
+   */
+  public static void convertToJson(InputStream input, OutputStream output) throws IOException {
+    try (InputStream json = toJson(input)) {
+      ByteStreams.copy(json, output);
+    }
+  }
+
+  /**
+   * @return a stream of the binary trace read from {@code input} in the JSON array format. The
+   *     trace is converted while the stream is read, and closing it closes the input stream.
+   */
+  public static InputStream toJson(InputStream input) throws IOException {
+    return new BinaryTraceJsonInputStream(input);
+  }
+
+  static void writeVarLong(DataOutput output, long value) throws IOException {
+    long remaining = value;
+    while ((remaining & ~0x7FL) != 0) {
+      output.writeByte((int) ((remaining & 0x7F) | 0x80));
+      remaining >>>= 7;
+    }
+    output.writeByte((int) remaining);
+  }
+
+  static void writeSignedVarLong(DataOutput output, long value) throws IOException {
+    writeVarLong(output, (value << 1) ^ (value >> 63));
+  }
+
+  static long readVarLong(DataInput input) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = input.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new ZipException("Malformed variable length integer in binary trace.");
+  }
+
+  static long readSignedVarLong(DataInput input) throws IOException {
+    long value = readVarLong(input);
+    return (value >>> 1) ^ -(value & 1);
+  }
+}
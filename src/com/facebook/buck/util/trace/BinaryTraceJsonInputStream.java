@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.trace;
+
+import com.facebook.buck.util.ObjectMappers;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Converts a {@link BinaryTrace} to the JSON array format while it is being read, so that only a
+ * few events are held in memory at a time instead of the whole JSON trace.
+ */
+class BinaryTraceJsonInputStream extends InputStream {
+
+  // Events are converted in batches of roughly this many bytes.
+  private static final int BATCH_SIZE = 64 * 1024;
+
+  private final BinaryTraceReader reader;
+  private final ExposedByteArrayOutputStream json = new ExposedByteArrayOutputStream();
+  private final JsonGenerator generator;
+  private int position;
+  private boolean ended;
+
+  BinaryTraceJsonInputStream(InputStream input) throws IOException {
+    this.reader = new BinaryTraceReader(input);
+    this.generator = ObjectMappers.createGenerator(json);
+    generator.writeStartArray();
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!fill()) {
+      return -1;
+    }
+    return json.getBuffer()[position++] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    if (!fill()) {
+      return -1;
+    }
+    int read = Math.min(len, json.size() - position);
+    System.arraycopy(json.getBuffer(), position, b, off, read);
+    position += read;
+    return read;
+  }
+
+  @Override
+  public int available() {
+    return json.size() - position;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      generator.close();
+    } finally {
+      reader.close();
+    }
+  }
+
+  /** @return whether there are converted bytes left to be read. */
+  private boolean fill() throws IOException {
+    while (position == json.size()) {
+      if (ended) {
+        return false;
+      }
+      json.reset();
+      position = 0;
+      while (json.size() < BATCH_SIZE) {
+        Optional<Map<String, Object>> event = reader.readEvent();
+        if (!event.isPresent()) {
+          generator.writeEndArray();
+          ended = true;
+          break;
+        }
+        ObjectMappers.WRITER.writeValue(generator, event.get());
+        generator.flush();
+      }
+      generator.flush();
+    }
+    return true;
+  }
+
+  /** Gives access to the converted bytes without copying them. */
+  private static class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+    private ExposedByteArrayOutputStream() {
+      super(2 * BATCH_SIZE);
+    }
+
+    private byte[] getBuffer() {
+      return buf;
+    }
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.trace;
+
+import com.facebook.buck.util.ObjectMappers;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+import javax.annotation.Nullable;
+
+/**
+ * Reads the events of a {@link BinaryTrace} one at a time, in the same form as they would be read
+ * from the JSON form of the trace.
+ */
+public class BinaryTraceReader implements Closeable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final InputStream stream;
+  private final Inflater inflater = new Inflater();
+  private final DataInputStream records;
+  // Id 0 stands for null.
+  private final List<String> strings = new ArrayList<>(Collections.singletonList(null));
+  private final Map<Long, Long> threadTimes = new HashMap<>();
+  private long time;
+  private boolean ended;
+
+  public BinaryTraceReader(InputStream stream) throws IOException {
+    this.stream = stream;
+    DataInputStream header = new DataInputStream(stream);
+    if (header.readInt() != BinaryTrace.MAGIC) {
+      throw new ZipException("Not a binary trace.");
+    }
+    byte version = header.readByte();
+    if (version != BinaryTrace.VERSION) {
+      throw new ZipException(
+          String.format(
+              "Unsupported binary trace version %d, expected %d.", version, BinaryTrace.VERSION));
+    }
+    this.records =
+        new DataInputStream(
+            new BufferedInputStream(
+                new InflaterInputStream(stream, inflater, BUFFER_SIZE), BUFFER_SIZE));
+  }
+
+  /** @return the next event of the trace, or {@link Optional#empty()} at its end. */
+  public Optional<Map<String, Object>> readEvent() throws IOException {
+    while (!ended) {
+      byte type = records.readByte();
+      switch (type) {
+        case BinaryTrace.END:
+          ended = true;
+          break;
+        case BinaryTrace.STRING:
+          strings.add(readString());
+          break;
+        case BinaryTrace.EVENT:
+          return Optional.of(readEventFields());
+        default:
+          throw new ZipException(String.format("Unknown record type %d in binary trace.", type));
+      }
+    }
+    return Optional.empty();
+  }
+
+  private Map<String, Object> readEventFields() throws IOException {
+    Map<String, Object> event = new LinkedHashMap<>();
+    String category = readStringRef();
+    if (category != null) {
+      event.put("cat", category);
+    }
+    String name = readStringRef();
+    if (name != null) {
+      event.put("name", name);
+    }
+    event.put("ph", String.valueOf((char) records.readUnsignedByte()));
+    event.put("pid", BinaryTrace.readSignedVarLong(records));
+    long threadId = BinaryTrace.readSignedVarLong(records);
+    event.put("tid", threadId);
+    time += BinaryTrace.readSignedVarLong(records);
+    event.put("ts", time);
+    long threadTime =
+        threadTimes.getOrDefault(threadId, 0L) + BinaryTrace.readSignedVarLong(records);
+    threadTimes.put(threadId, threadTime);
+    event.put("tts", threadTime);
+
+    // The argument count is offset by one, so that zero can stand for missing arguments.
+    long argumentCount = BinaryTrace.readVarLong(records) - 1;
+    if (argumentCount >= 0) {
+      Map<String, Object> args = new LinkedHashMap<>();
+      for (long i = 0; i < argumentCount; i++) {
+        args.put(readStringRef(), readValue());
+      }
+      event.put("args", Collections.unmodifiableMap(args));
+    }
+    return Collections.unmodifiableMap(event);
+  }
+
+  @Nullable
+  private Object readValue() throws IOException {
+    byte tag = records.readByte();
+    switch (tag) {
+      case BinaryTrace.VALUE_NULL:
+        return null;
+      case BinaryTrace.VALUE_STRING_REF:
+        return readStringRef();
+      case BinaryTrace.VALUE_STRING:
+        return readString();
+      case BinaryTrace.VALUE_LONG:
+        return BinaryTrace.readSignedVarLong(records);
+      case BinaryTrace.VALUE_DOUBLE:
+        return records.readDouble();
+      case BinaryTrace.VALUE_FALSE:
+        return false;
+      case BinaryTrace.VALUE_TRUE:
+        return true;
+      case BinaryTrace.VALUE_JSON:
+        return ObjectMappers.readValue(readString(), Object.class);
+      default:
+        throw new ZipException(String.format("Unknown value type %d in binary trace.", tag));
+    }
+  }
+
+  @Nullable
+  private String readStringRef() throws IOException {
+    long id = BinaryTrace.readVarLong(records);
+    if (id < 0 || id >= strings.size()) {
+      throw new ZipException(String.format("Unknown string %d in binary trace.", id));
+    }
+    return strings.get((int) id);
+  }
+
+  private String readString() throws IOException {
+    long length = BinaryTrace.readVarLong(records);
+    if (length < 0 || length > Integer.MAX_VALUE) {
+      throw new ZipException(String.format("Corrupt string of %d bytes in binary trace.", length));
+    }
+    byte[] bytes = new byte[(int) length];
+    records.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      stream.close();
+    } finally {
+      inflater.end();
+    }
+  }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.trace;
+
+import com.facebook.buck.util.ObjectMappers;
+import com.google.common.base.Preconditions;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import javax.annotation.Nullable;
+
+/**
+ * Writes a {@link BinaryTrace}. Events can be written from any thread: they are added to a
+ * lock-free queue, which a single writer thread drains, encodes and compresses, so that the
+ * threads producing events never wait for each other or for the disk.
+ */
+public class BinaryTraceWriter implements Closeable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  // How long the writer thread waits for new events once it drained the queue.
+  private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  // Argument values up to this length are added to the string table, longer ones are unlikely to
+  // repeat. The table is bounded, since it is held in memory by both the writer and the reader.
+  private static final int MAX_INTERNED_VALUE_LENGTH = 64;
+  private static final int MAX_INTERNED_VALUES = 64 * 1024;
+
+  private final OutputStream stream;
+  private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+  private final DataOutputStream records;
+  private final Queue<Event> queue = new ConcurrentLinkedQueue<>();
+  private final Thread writerThread;
+  private volatile boolean closed;
+
+  // Only accessed by the writer thread until it finished.
+  private final Map<String, Integer> strings = new HashMap<>();
+  private final Map<Long, Long> threadTimes = new HashMap<>();
+  private int internedValues;
+  private long time;
+  @Nullable private IOException failure;
+
+  /**
+   * @param stream the stream to write the trace to, which is closed when the writer is closed.
+   * @param threadFactory creates the thread which writes the trace.
+   */
+  public BinaryTraceWriter(OutputStream stream, ThreadFactory threadFactory) throws IOException {
+    this.stream = stream;
+    DataOutputStream header = new DataOutputStream(stream);
+    header.writeInt(BinaryTrace.MAGIC);
+    header.writeByte(BinaryTrace.VERSION);
+    header.flush();
+    // Buffer in front of the deflater as well, it is expensive to call for small writes.
+    this.records =
+        new DataOutputStream(
+            new BufferedOutputStream(
+                new DeflaterOutputStream(
+                    new BufferedOutputStream(stream, BUFFER_SIZE), deflater, BUFFER_SIZE),
+                BUFFER_SIZE));
+    this.writerThread = threadFactory.newThread(this::writeEvents);
+    // Closing the writer waits for the thread, it must not keep the process alive otherwise.
+    this.writerThread.setDaemon(true);
+    this.writerThread.start();
+  }
+
+  /**
+   * Adds an event to the trace. Its fields have the meaning of the fields of the same name in
+   * Chrome traces, the arguments may hold any value which can be written as JSON.
+   */
+  public void write(
+      @Nullable String category,
+      @Nullable String name,
+      char phase,
+      long processId,
+      long threadId,
+      long microTime,
+      long microThreadUserTime,
+      @Nullable Map<String, ?> args) {
+    Preconditions.checkState(!closed, "Binary trace was already closed.");
+    queue.add(
+        new Event(
+            category, name, phase, processId, threadId, microTime, microThreadUserTime, args));
+  }
+
+  private void writeEvents() {
+    while (true) {
+      // Read the flag before draining the queue, so that no event added before the writer was
+      // closed is left behind.
+      boolean closing = closed;
+      for (Event event = queue.poll(); event != null; event = queue.poll()) {
+        if (failure == null) {
+          try {
+            writeEvent(event);
+          } catch (IOException e) {
+            failure = e;
+          }
+        }
+      }
+      if (closing) {
+        return;
+      }
+      LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+    }
+  }
+
+  private void writeEvent(Event event) throws IOException {
+    // Define the strings of the event before its record starts.
+    int category = stringRef(event.category);
+    int name = stringRef(event.name);
+    if (event.args != null) {
+      for (Map.Entry<String, ?> arg : event.args.entrySet()) {
+        stringRef(arg.getKey());
+        if (arg.getValue() instanceof String) {
+          internValue((String) arg.getValue());
+        }
+      }
+    }
+
+    records.writeByte(BinaryTrace.EVENT);
+    BinaryTrace.writeVarLong(records, category);
+    BinaryTrace.writeVarLong(records, name);
+    records.writeByte(event.phase);
+    BinaryTrace.writeSignedVarLong(records, event.processId);
+    BinaryTrace.writeSignedVarLong(records, event.threadId);
+    BinaryTrace.writeSignedVarLong(records, event.microTime - time);
+    time = event.microTime;
+    Long threadTime = threadTimes.put(event.threadId, event.microThreadUserTime);
+    BinaryTrace.writeSignedVarLong(
+        records, event.microThreadUserTime - (threadTime == null ? 0 : threadTime));
+
+    if (event.args == null) {
+      BinaryTrace.writeVarLong(records, 0);
+      return;
+    }
+    BinaryTrace.writeVarLong(records, event.args.size() + 1);
+    for (Map.Entry<String, ?> arg : event.args.entrySet()) {
+      BinaryTrace.writeVarLong(records, stringRef(arg.getKey()));
+      writeValue(arg.getValue());
+    }
+  }
+
+  /** @return the id of the string in the string table, which it is added to if necessary. */
+  private int stringRef(@Nullable String string) throws IOException {
+    if (string == null) {
+      return 0;
+    }
+    Integer id = strings.get(string);
+    if (id == null) {
+      id = strings.size() + 1;
+      strings.put(string, id);
+      records.writeByte(BinaryTrace.STRING);
+      writeString(string);
+    }
+    return id;
+  }
+
+  private void internValue(String value) throws IOException {
+    if (strings.containsKey(value)
+        || value.length() > MAX_INTERNED_VALUE_LENGTH
+        || internedValues >= MAX_INTERNED_VALUES) {
+      return;
+    }
+    internedValues++;
+    stringRef(value);
+  }
+
+  private void writeValue(@Nullable Object value) throws IOException {
+    if (value == null) {
+      records.writeByte(BinaryTrace.VALUE_NULL);
+    } else if (value instanceof String) {
+      Integer id = strings.get(value);
+      if (id != null) {
+        records.writeByte(BinaryTrace.VALUE_STRING_REF);
+        BinaryTrace.writeVarLong(records, id);
+      } else {
+        records.writeByte(BinaryTrace.VALUE_STRING);
+        writeString((String) value);
+      }
+    } else if (value instanceof Long
+        || value instanceof Integer
+        || value instanceof Short
+        || value instanceof Byte) {
+      records.writeByte(BinaryTrace.VALUE_LONG);
+      BinaryTrace.writeSignedVarLong(records, ((Number) value).longValue());
+    } else if (value instanceof Double || value instanceof Float) {
+      records.writeByte(BinaryTrace.VALUE_DOUBLE);
+      records.writeDouble(((Number) value).doubleValue());
+    } else if (value instanceof Boolean) {
+      records.writeByte((Boolean) value ? BinaryTrace.VALUE_TRUE : BinaryTrace.VALUE_FALSE);
+    } else {
+      // Anything else, like lists, maps or objects, is kept in its JSON form.
+      records.writeByte(BinaryTrace.VALUE_JSON);
+      writeString(ObjectMappers.WRITER.writeValueAsString(value));
+    }
+  }
+
+  private void writeString(String string) throws IOException {
+    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+    BinaryTrace.writeVarLong(records, bytes.length);
+    records.write(bytes);
+  }
+
+  /**
+   * Waits for the events written so far to be written, and ends the trace.
+   *
+   * @throws IOException if any of the events couldn't be written.
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    LockSupport.unpark(writerThread);
+    try {
+      writerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while writing the binary trace.");
+    }
+    try {
+      if (failure != null) {
+        throw failure;
+      }
+      records.writeByte(BinaryTrace.END);
+      records.close();
+    } finally {
+      stream.close();
+      deflater.end();
+    }
+  }
+
+  private static class Event {
+    @Nullable private final String category;
+    @Nullable private final String name;
+    private final char phase;
+    private final long processId;
+    private final long threadId;
+    private final long microTime;
+    private final long microThreadUserTime;
+    @Nullable private final Map<String, ?> args;
+
+    private Event(
+        @Nullable String category,
+        @Nullable String name,
+        char phase,
+        long processId,
+        long threadId,
+        long microTime,
+        long microThreadUserTime,
+        @Nullable Map<String, ?> args) {
+      this.category = category;
+      this.name = name;
+      this.phase = phase;
+      this.processId = processId;
+      this.threadId = threadId;
+      this.microTime = microTime;
+      this.microThreadUserTime = microThreadUserTime;
+      this.args = args;
+    }
+  }
+}
@@ -22,6 +22,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.MappingIterator;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
@@ -83,7 +84,7 @@ public class ChromeTraceParser {
    * into memory.
    *
    * @param pathToTrace is a relative path [to the ProjectFilesystem] to a Chrome trace in the "JSON
-   *     Array Format."
+   *     Array Format," or to a {@link BinaryTrace}.
    * @param chromeTraceEventMatchers set of matchers this invocation of {@code parse()} is trying to
    *     satisfy. Once a matcher finds a match, it will not consider any other events in the trace.
    * @return a {@code Map} where every matcher that found a match will have an entry whose key is
@@ -97,33 +98,26 @@ public class ChromeTraceParser {
     Preconditions.checkArgument(!unmatchedMatchers.isEmpty(), "Must specify at least one matcher");
     Map<ChromeTraceEventMatcher<?>, Object> results = new HashMap<>();
 
-    try (InputStream input = projectFilesystem.newFileInputStream(pathToTrace);
-        MappingIterator<ImmutableMap<String, Object>> it =
+    try (InputStream input =
+        new BufferedInputStream(projectFilesystem.newFileInputStream(pathToTrace))) {
+      if (BinaryTrace.isBinaryTrace(input)) {
+        try (BinaryTraceReader reader = new BinaryTraceReader(input)) {
+          for (Optional<Map<String, Object>> event = reader.readEvent();
+              event.isPresent();
+              event = reader.readEvent()) {
+            if (matchEvent(event.get(), unmatchedMatchers, results)) {
+              break;
+            }
+          }
+        }
+      } else {
+        try (MappingIterator<ImmutableMap<String, Object>> it =
             ObjectMappers.READER
                 .forType(new TypeReference<ImmutableMap<String, Object>>() {})
                 .readValues(input)) {
-      featureSearch:
-      while (it.hasNext()) {
-        // Verify and extract the name property before invoking any of the matchers.
-        ImmutableMap<String, Object> event = it.next();
-        Object nameEl = event.get("name");
-        if (nameEl == null || !(nameEl instanceof String)) {
-          continue;
-        }
-        String name = (String) nameEl;
-
-        // Prefer Iterator to Iterable+foreach so we can use remove().
-        for (Iterator<ChromeTraceEventMatcher<?>> iter = unmatchedMatchers.iterator();
-            iter.hasNext();
-            ) {
-          ChromeTraceEventMatcher<?> chromeTraceEventMatcher = iter.next();
-          Optional<?> result = chromeTraceEventMatcher.test(event, name);
-          if (result.isPresent()) {
-            iter.remove();
-            results.put(chromeTraceEventMatcher, result.get());
-
-            if (unmatchedMatchers.isEmpty()) {
-              break featureSearch;
+          while (it.hasNext()) {
+            if (matchEvent(it.next(), unmatchedMatchers, results)) {
+              break;
             }
           }
         }
@@ -134,6 +128,36 @@ public class ChromeTraceParser {
     return results;
   }
 
+  /**
+   * Runs the matchers which haven't found a match yet on the event.
+   *
+   * @return whether all of the matchers have found a match.
+   */
+  private static boolean matchEvent(
+      Map<String, Object> event,
+      Set<ChromeTraceEventMatcher<?>> unmatchedMatchers,
+      Map<ChromeTraceEventMatcher<?>, Object> results) {
+    // Verify and extract the name property before invoking any of the matchers.
+    Object nameEl = event.get("name");
+    if (nameEl == null || !(nameEl instanceof String)) {
+      return false;
+    }
+    String name = (String) nameEl;
+
+    // Prefer Iterator to Iterable+foreach so we can use remove().
+    for (Iterator<ChromeTraceEventMatcher<?>> iter = unmatchedMatchers.iterator();
+        iter.hasNext();
+        ) {
+      ChromeTraceEventMatcher<?> chromeTraceEventMatcher = iter.next();
+      Optional<?> result = chromeTraceEventMatcher.test(event, name);
+      if (result.isPresent()) {
+        iter.remove();
+        results.put(chromeTraceEventMatcher, result.get());
+      }
+    }
+    return unmatchedMatchers.isEmpty();
+  }
+
   /**
    * Designed for use with the result of {@link ChromeTraceParser#parse(Path, Set)}. Helper function
    * to avoid some distasteful casting logic.
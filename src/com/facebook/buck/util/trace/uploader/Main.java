@@ -18,17 +18,21 @@ package com.facebook.buck.util.trace.uploader;
 
 import com.facebook.buck.util.BestCompressionGZIPOutputStream;
 import com.facebook.buck.util.network.MacIpv6BugWorkaround;
+import com.facebook.buck.util.trace.BinaryTrace;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Stopwatch;
+import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter; // NOPMD this is just a log
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.MultipartBody;
@@ -36,11 +40,15 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okio.BufferedSink;
 import org.kohsuke.args4j.CmdLineException;
 import org.kohsuke.args4j.CmdLineParser;
 import org.kohsuke.args4j.Option;
 
 public final class Main {
+  private static final MediaType JSON_GZIP = MediaType.parse("application/json+gzip");
+  private static final MediaType BINARY_TRACE = MediaType.parse("application/x-buck-btrace");
+
   @Option(name = "--buildId", required = true)
   private String uuid;
 
@@ -53,6 +61,10 @@ public final class Main {
   @Option(name = "--log", required = true)
   private File logFile;
 
+  // Binary traces are uploaded as they are unless the server only accepts JSON traces.
+  @Option(name = "--convertBinaryTraceToJson")
+  private boolean convertBinaryTraceToJson;
+
   private PrintWriter log;
 
   static {
@@ -85,25 +97,34 @@ public final class Main {
     try {
       OkHttpClient client = new OkHttpClient();
       HttpUrl url = HttpUrl.get(baseUrl).newBuilder().addQueryParameter("uuid", this.uuid).build();
-      Path compressedTracePath = gzip(traceFilePath);
 
       log.format("Build ID: %s\n", uuid);
       log.format("Trace file: %s (%d) bytes\n", traceFilePath, Files.size(traceFilePath));
-      log.format("Compressed size: %d bytes\n", Files.size(compressedTracePath));
       log.format("Upload URL: %s\n", url);
-      log.format("Uploading compressed trace...");
+      String fileName = traceFilePath.getFileName().toString();
+      RequestBody body;
+      if (!isBinaryTrace(traceFilePath)) {
+        Path compressedTracePath = gzip(traceFilePath);
+        log.format("Compressed size: %d bytes\n", Files.size(compressedTracePath));
+        log.format("Uploading compressed trace...");
+        fileName += ".gz";
+        body = RequestBody.create(JSON_GZIP, compressedTracePath.toFile());
+      } else if (convertBinaryTraceToJson) {
+        log.format("Uploading binary trace converted to JSON...");
+        fileName += ".json.gz";
+        body = new ConvertedBinaryTraceRequestBody(traceFilePath);
+      } else {
+        // Binary traces are already compressed.
+        log.format("Uploading binary trace...");
+        body = RequestBody.create(BINARY_TRACE, traceFilePath.toFile());
+      }
       Request request =
           new Request.Builder()
               .url(url)
               .post(
                   new MultipartBody.Builder()
                       .setType(MultipartBody.FORM)
-                      .addFormDataPart(
-                          "trace_file",
-                          traceFilePath.getFileName().toString() + ".gz",
-                          RequestBody.create(
-                              MediaType.parse("application/json+gzip"),
-                              compressedTracePath.toFile()))
+                      .addFormDataPart("trace_file", fileName, body)
                       .build())
               .build();
 
@@ -124,6 +145,12 @@ public final class Main {
     }
   }
 
+  private static boolean isBinaryTrace(Path trace) throws IOException {
+    try (InputStream input = new BufferedInputStream(Files.newInputStream(trace))) {
+      return BinaryTrace.isBinaryTrace(input);
+    }
+  }
+
   private Path gzip(Path uncompressed) throws IOException {
     Path compressed = Files.createTempFile("tmp", ".gz");
     try (BestCompressionGZIPOutputStream gzipStream =
@@ -133,4 +160,31 @@ public final class Main {
     }
     return compressed;
   }
+
+  /**
+   * Converts a binary trace to a gzipped JSON trace while it is being uploaded, for servers which
+   * only accept JSON traces. Nothing but the part of the trace being sent is held in memory.
+   */
+  private static class ConvertedBinaryTraceRequestBody extends RequestBody {
+    private final Path trace;
+
+    private ConvertedBinaryTraceRequestBody(Path trace) {
+      this.trace = trace;
+    }
+
+    @Override
+    public MediaType contentType() {
+      return JSON_GZIP;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+      try (InputStream input = new BufferedInputStream(Files.newInputStream(trace))) {
+        // The sink is owned by the request, so the stream is finished rather than closed.
+        GZIPOutputStream gzipStream = new GZIPOutputStream(sink.outputStream());
+        BinaryTrace.convertToJson(input, gzipStream);
+        gzipStream.finish();
+      }
+    }
+  }
 }
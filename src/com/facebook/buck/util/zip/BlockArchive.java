@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.zip;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.Futures;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * An archive format whose files are split into blocks which are compressed independently of each
+ * other, so that an archive can be created and extracted using several threads. Like {@link Zip},
+ * it records directories, regular files and their executable bit.
+ *
+ * <p>An archive starts with {@link #MAGIC} and the version of the format, followed by its entries.
+ * Each entry is a type byte and its path. The blocks of a file follow its path, each as its length,
+ * the length of its stored data, the CRC32 of its contents and the stored data, which is the
+ * zlib-compressed contents or, if compressing doesn't make them any smaller, the contents
+ * themselves. A zero length ends the blocks of a file, and an {@link #END} entry ends the archive.
+ */
+public class BlockArchive {
+
+  static final int MAGIC = 0x42434b41; // "BCKA"
+  static final byte VERSION = 1;
+
+  static final byte END = 0;
+  static final byte DIRECTORY = 1;
+  static final byte FILE = 2;
+  static final byte EXECUTABLE_FILE = 3;
+
+  static final int BLOCK_SIZE = 1024 * 1024;
+
+  /** Utility class: do not instantiate. */
+  private BlockArchive() {}
+
+  /**
+   * Takes a sequence of paths relative to the project root and writes an archive to {@code out}
+   * with the contents and structure that matches that of the specified paths. The blocks are
+   * compressed on the given executor.
+   */
+  public static void create(
+      ProjectFilesystem projectFilesystem,
+      Collection<Path> pathsToInclude,
+      Path out,
+      int compressionLevel,
+      ExecutorService executor)
+      throws IOException {
+    // Bound the number of blocks held in memory while they wait to be written.
+    int maxPendingRecords = 2 * Runtime.getRuntime().availableProcessors();
+    Deque<Future<byte[]>> pendingRecords = new ArrayDeque<>();
+    byte[] readBuffer = new byte[BLOCK_SIZE];
+    try (DataOutputStream archive =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(out)))) {
+      archive.writeInt(MAGIC);
+      archive.writeByte(VERSION);
+      for (Path path : pathsToInclude) {
+        boolean isDirectory = projectFilesystem.isDirectory(path);
+        byte type =
+            isDirectory
+                ? DIRECTORY
+                : projectFilesystem.isExecutable(path) ? EXECUTABLE_FILE : FILE;
+        pendingRecords.add(Futures.immediateFuture(entryRecord(type, path)));
+        if (isDirectory) {
+          continue;
+        }
+        try (InputStream input = projectFilesystem.newFileInputStream(path)) {
+          while (true) {
+            int length = ByteStreams.read(input, readBuffer, 0, BLOCK_SIZE);
+            if (length == 0) {
+              break;
+            }
+            byte[] block = Arrays.copyOf(readBuffer, length);
+            while (pendingRecords.size() >= maxPendingRecords) {
+              archive.write(getRecord(pendingRecords.remove()));
+            }
+            pendingRecords.add(
+                executor.submit(() -> compressBlock(block, length, compressionLevel)));
+            if (length < BLOCK_SIZE) {
+              break;
+            }
+          }
+        }
+        // A zero length ends the blocks of the file.
+        pendingRecords.add(Futures.immediateFuture(new byte[4]));
+      }
+      while (!pendingRecords.isEmpty()) {
+        archive.write(getRecord(pendingRecords.remove()));
+      }
+      archive.writeByte(END);
+    } finally {
+      for (Future<byte[]> record : pendingRecords) {
+        record.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Extracts an archive while it is being read from the given stream, and decompresses its blocks
+   * on the given executor. If the extraction fails, the files written so far are deleted again.
+   *
+   * @return the paths of the files which were extracted.
+   */
+  public static ImmutableList<Path> extract(
+      InputStream archive,
+      ProjectFilesystem filesystem,
+      Unzip.ExistingFileMode existingFileMode,
+      ExecutorService executor)
+      throws IOException {
+    return new BlockArchiveExtractor(filesystem, existingFileMode, executor).extract(archive);
+  }
+
+  private static byte[] entryRecord(byte type, Path path) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream record = new DataOutputStream(bytes)) {
+      record.writeByte(type);
+      // Use forward slashes on all platforms, like zip entries do.
+      record.writeUTF(path.toString().replace('\\', '/'));
+    }
+    return bytes.toByteArray();
+  }
+
+  private static byte[] compressBlock(byte[] block, int length, int compressionLevel) {
+    CRC32 crc = new CRC32();
+    crc.update(block, 0, length);
+
+    Deflater deflater = new Deflater(compressionLevel);
+    byte[] compressed = new byte[length];
+    int compressedLength = 0;
+    try {
+      deflater.setInput(block, 0, length);
+      deflater.finish();
+      while (!deflater.finished() && compressedLength < length) {
+        compressedLength +=
+            deflater.deflate(compressed, compressedLength, length - compressedLength);
+      }
+      if (!deflater.finished() || compressedLength >= length) {
+        // Compressing doesn't pay off, store the block as it is.
+        compressed = block;
+        compressedLength = length;
+      }
+    } finally {
+      deflater.end();
+    }
+
+    ByteBuffer record = ByteBuffer.allocate(12 + compressedLength);
+    record.putInt(length);
+    record.putInt(compressedLength);
+    record.putInt((int) crc.getValue());
+    record.put(compressed, 0, compressedLength);
+    return record.array();
+  }
+
+  private static byte[] getRecord(Future<byte[]> record) throws IOException {
+    try {
+      return record.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while compressing the archive.");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    }
+  }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.zip;
+
+import com.facebook.buck.io.file.MoreFiles;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.collect.ImmutableList;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Extracts a {@link BlockArchive} while it is being read from a stream. The blocks are read in
+ * order, and decompressed and written to their place in the file they belong to on an executor.
+ */
+class BlockArchiveExtractor {
+
+  private final ProjectFilesystem filesystem;
+  private final Unzip.ExistingFileMode existingFileMode;
+  private final ExecutorService executor;
+  // Bound the number of blocks held in memory while they wait to be decompressed.
+  private final int maxPendingBlocks = 2 * Runtime.getRuntime().availableProcessors();
+
+  private final List<Path> filesWritten = new ArrayList<>();
+  private final Set<Path> extractedPaths = new HashSet<>();
+  private final List<Path> existingDirectories = new ArrayList<>();
+  private final Deque<Future<Void>> pendingBlocks = new ArrayDeque<>();
+  private final Set<OutputFile> openFiles = ConcurrentHashMap.newKeySet();
+
+  BlockArchiveExtractor(
+      ProjectFilesystem filesystem,
+      Unzip.ExistingFileMode existingFileMode,
+      ExecutorService executor) {
+    this.filesystem = filesystem;
+    this.existingFileMode = existingFileMode;
+    this.executor = executor;
+  }
+
+  /**
+   * Extracts the archive read from the given stream. If the extraction fails, the files written so
+   * far are deleted again.
+   */
+  ImmutableList<Path> extract(InputStream stream) throws IOException {
+    try {
+      // The archive is read straight off the stream, so it must not be closed here.
+      DataInputStream archive = new DataInputStream(stream);
+      readHeader(archive);
+      extractEntries(archive);
+      while (!pendingBlocks.isEmpty()) {
+        waitFor(pendingBlocks.remove());
+      }
+      if (existingFileMode == Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES) {
+        cleanExistingDirectories();
+      }
+    } catch (IOException e) {
+      for (Future<Void> block : pendingBlocks) {
+        block.cancel(true);
+      }
+      for (OutputFile file : openFiles) {
+        file.channel.close();
+      }
+      for (Path path : filesWritten) {
+        filesystem.deleteFileAtPathIfExists(path);
+      }
+      throw e;
+    }
+    return ImmutableList.copyOf(filesWritten);
+  }
+
+  private static void readHeader(DataInputStream archive) throws IOException {
+    if (archive.readInt() != BlockArchive.MAGIC) {
+      throw new ZipException("Not a block archive.");
+    }
+    byte version = archive.readByte();
+    if (version != BlockArchive.VERSION) {
+      throw new ZipException(
+          String.format(
+              "Unsupported block archive version %d, expected %d.",
+              version, BlockArchive.VERSION));
+    }
+  }
+
+  private void extractEntries(DataInputStream archive) throws IOException {
+    for (byte type = archive.readByte(); type != BlockArchive.END; type = archive.readByte()) {
+      Path target = filesystem.getPath(archive.readUTF()).normalize();
+      if (target.isAbsolute() || target.startsWith("..")) {
+        throw new ZipException(String.format("Entry %s is outside of the archive root.", target));
+      }
+      extractedPaths.add(target);
+      switch (type) {
+        case BlockArchive.DIRECTORY:
+          extractDirectory(target);
+          break;
+        case BlockArchive.FILE:
+        case BlockArchive.EXECUTABLE_FILE:
+          extractFile(archive, target, type == BlockArchive.EXECUTABLE_FILE);
+          break;
+        default:
+          throw new ZipException(String.format("Unknown entry type %d for %s.", type, target));
+      }
+    }
+  }
+
+  private void extractDirectory(Path target) throws IOException {
+    if (filesystem.isDirectory(target, LinkOption.NOFOLLOW_LINKS)) {
+      // Stale contents can only be told apart once all of the entries have been seen.
+      existingDirectories.add(target);
+    } else if (filesystem.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+      filesystem.deleteFileAtPath(target);
+      filesystem.mkdirs(target);
+    } else {
+      filesystem.mkdirs(target);
+    }
+  }
+
+  private void extractFile(DataInputStream archive, Path target, boolean executable)
+      throws IOException {
+    if (filesystem.isFile(target, LinkOption.NOFOLLOW_LINKS)) { // NOPMD for clarity
+      // pass
+    } else if (filesystem.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+      filesystem.deleteRecursivelyIfExists(target);
+    } else {
+      filesystem.createParentDirs(target);
+    }
+    filesWritten.add(target);
+    OutputFile file =
+        new OutputFile(
+            target,
+            executable,
+            FileChannel.open(
+                filesystem.resolve(target),
+                StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING));
+    openFiles.add(file);
+
+    long position = 0;
+    for (int length = archive.readInt(); length != 0; length = archive.readInt()) {
+      int storedLength = archive.readInt();
+      int crc = archive.readInt();
+      if (length < 0
+          || length > BlockArchive.BLOCK_SIZE
+          || storedLength <= 0
+          || storedLength > length) {
+        throw new ZipException(
+            String.format("Corrupt block of %d bytes at %d in %s.", length, position, target));
+      }
+      byte[] stored = new byte[storedLength];
+      archive.readFully(stored);
+
+      while (pendingBlocks.size() >= maxPendingBlocks) {
+        waitFor(pendingBlocks.remove());
+      }
+      long blockPosition = position;
+      int blockLength = length;
+      file.references.incrementAndGet();
+      pendingBlocks.add(
+          executor.submit(
+              () -> {
+                writeBlock(file, blockPosition, blockLength, stored, crc);
+                return null;
+              }));
+      position += length;
+    }
+    file.release();
+  }
+
+  private void writeBlock(OutputFile file, long position, int length, byte[] stored, int crc)
+      throws IOException {
+    byte[] block = stored.length == length ? stored : inflate(file.target, length, stored);
+    CRC32 actualCrc = new CRC32();
+    actualCrc.update(block);
+    if ((int) actualCrc.getValue() != crc) {
+      throw new ZipException(
+          String.format("CRC mismatch in the block at %d in %s.", position, file.target));
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(block);
+    long offset = position;
+    while (buffer.hasRemaining()) {
+      offset += file.channel.write(buffer, offset);
+    }
+    file.release();
+  }
+
+  private static byte[] inflate(Path target, int length, byte[] stored) throws IOException {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(stored);
+      byte[] block = new byte[length];
+      int inflated = 0;
+      while (inflated < length) {
+        int read = inflater.inflate(block, inflated, length - inflated);
+        if (read == 0 && (inflater.finished() || inflater.needsInput())) {
+          throw new ZipException(String.format("Truncated block in %s.", target));
+        }
+        inflated += read;
+      }
+      // Reading past the end of the block checks its zlib trailer.
+      if (inflater.inflate(new byte[1]) != 0 || !inflater.finished()) {
+        throw new ZipException(String.format("Block in %s is longer than expected.", target));
+      }
+      return block;
+    } catch (DataFormatException e) {
+      throw new ZipException(String.format("Corrupt block in %s: %s", target, e.getMessage()));
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private void cleanExistingDirectories() throws IOException {
+    // Directories which aren't listed themselves still hold listed entries, so keep those too.
+    Set<Path> keep = new HashSet<>();
+    for (Path path : extractedPaths) {
+      Path p = path;
+      while (p != null && keep.add(p)) {
+        p = p.getParent();
+      }
+    }
+    for (Path directory : existingDirectories) {
+      for (Path path : filesystem.getDirectoryContents(directory)) {
+        if (!keep.contains(path)) {
+          filesystem.deleteRecursivelyIfExists(path);
+        }
+      }
+    }
+  }
+
+  private static void waitFor(Future<Void> block) throws IOException {
+    try {
+      block.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while extracting the archive.");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    }
+  }
+
+  /**
+   * A file whose blocks are being written. The reader holds a reference until it read the last
+   * block, and every block holds one until it was written, whoever releases the last one finishes
+   * the file.
+   */
+  private class OutputFile {
+    private final Path target;
+    private final boolean executable;
+    private final FileChannel channel;
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private OutputFile(Path target, boolean executable, FileChannel channel) {
+      this.target = target;
+      this.executable = executable;
+      this.channel = channel;
+    }
+
+    private void release() throws IOException {
+      if (references.decrementAndGet() > 0) {
+        return;
+      }
+      openFiles.remove(this);
+      channel.close();
+      Path path = filesystem.resolve(target);
+      // Match the timestamps of files extracted from zips.
+      path.toFile().setLastModified(ZipConstants.getFakeTime());
+      if (executable) {
+        MoreFiles.makeExecutable(path);
+      }
+    }
+  }
+}
@@ -245,6 +245,17 @@ public class Unzip {
     return extractZipFile(zipFile, filesystem, filesystem.getPath(""), existingFileMode);
   }
 
+  /**
+   * Unzips an archive to the root of the given filesystem as it is read from a stream, and returns
+   * the paths of the written files. The stream is read to its end but not closed. If the
+   * extraction fails, the files written so far are deleted again.
+   */
+  public static ImmutableList<Path> extractZipStream(
+      InputStream zipStream, ProjectFilesystem filesystem, ExistingFileMode existingFileMode)
+      throws IOException {
+    return new ZipStreamExtractor(filesystem, existingFileMode).extract(zipStream);
+  }
+
   public static ImmutableList<Path> extractZipFile(
       ProjectFilesystemFactory projectFilesystemFactory,
       Path zipFile,
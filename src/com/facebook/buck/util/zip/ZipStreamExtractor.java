@@ -0,0 +1,297 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.zip;
+
+import com.facebook.buck.io.file.MoreFiles;
+import com.facebook.buck.io.file.MorePosixFilePermissions;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Extracts a zip archive while it is being read from a stream, without needing the archive on
+ * disk.
+ *
+ * <p>The local file headers which precede the contents of each entry don't carry the unix mode of
+ * the entry, so entries are written out as plain files as they arrive, and are made executable or
+ * turned into symlinks once the central directory at the end of the stream has been read.
+ */
+class ZipStreamExtractor {
+
+  private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+  private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+  private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+  private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE = 20;
+  private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+  private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+
+  // The zip reader only reads a few hundred bytes ahead, so remembering the last 64KB it read is
+  // plenty to recover the start of the central directory once it stops at it.
+  private static final int LOOKBEHIND_SIZE = 64 * 1024;
+
+  private final ProjectFilesystem filesystem;
+  private final Unzip.ExistingFileMode existingFileMode;
+
+  // Entry name -> path of the files written so far, in the order they were written.
+  private final Map<String, Path> filesWritten = new LinkedHashMap<>();
+  private final Set<Path> extractedPaths = new HashSet<>();
+  private final List<Path> existingDirectories = new ArrayList<>();
+
+  ZipStreamExtractor(ProjectFilesystem filesystem, Unzip.ExistingFileMode existingFileMode) {
+    this.filesystem = filesystem;
+    this.existingFileMode = existingFileMode;
+  }
+
+  /**
+   * Extracts the archive read from the given stream. If the extraction fails, the files written so
+   * far are deleted again.
+   */
+  ImmutableList<Path> extract(InputStream stream) throws IOException {
+    try {
+      LookbehindInputStream lookbehind = new LookbehindInputStream(stream);
+      extractEntries(lookbehind);
+      restoreModes(readCentralDirectoryModes(lookbehind));
+      if (existingFileMode == Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES) {
+        cleanExistingDirectories();
+      }
+    } catch (IOException e) {
+      for (Path path : filesWritten.values()) {
+        filesystem.deleteFileAtPathIfExists(path);
+      }
+      throw e;
+    }
+    return ImmutableList.copyOf(filesWritten.values());
+  }
+
+  private void extractEntries(InputStream stream) throws IOException {
+    // The entries are read straight off the stream, so it must not be closed here.
+    ZipInputStream zip = new ZipInputStream(stream, Charsets.UTF_8);
+    for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+      Path target = filesystem.getPath(entry.getName()).normalize();
+      extractedPaths.add(target);
+      if (entry.isDirectory()) {
+        if (filesystem.isDirectory(target, LinkOption.NOFOLLOW_LINKS)) {
+          // Stale contents can only be told apart once all of the entries have been seen.
+          existingDirectories.add(target);
+        } else if (filesystem.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+          filesystem.deleteFileAtPath(target);
+          filesystem.mkdirs(target);
+        } else {
+          filesystem.mkdirs(target);
+        }
+      } else {
+        if (filesystem.isFile(target, LinkOption.NOFOLLOW_LINKS)) { // NOPMD for clarity
+          // pass
+        } else if (filesystem.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+          filesystem.deleteRecursivelyIfExists(target);
+        } else {
+          filesystem.createParentDirs(target);
+        }
+        filesWritten.put(entry.getName(), target);
+        try (OutputStream out = filesystem.newFileOutputStream(target)) {
+          ByteStreams.copy(zip, out);
+        }
+        filesystem.resolve(target).toFile().setLastModified(entry.getTime());
+      }
+    }
+  }
+
+  private void restoreModes(Map<String, Long> modes) throws IOException {
+    for (Map.Entry<String, Path> file : filesWritten.entrySet()) {
+      Long mode = modes.get(file.getKey());
+      if (mode == null) {
+        continue;
+      }
+      Path target = file.getValue();
+      if ((mode & MoreFiles.S_IFLNK) == MoreFiles.S_IFLNK) {
+        String linkTarget = filesystem.readFileIfItExists(target).orElse("");
+        filesystem.createSymLink(target, filesystem.getPath(linkTarget), /* force */ true);
+        continue;
+      }
+      // See Unzip.writeZipContents for how the executable bit is recorded.
+      Set<PosixFilePermission> permissions = MorePosixFilePermissions.fromMode(mode);
+      if (permissions.contains(PosixFilePermission.OWNER_EXECUTE)) {
+        MoreFiles.makeExecutable(filesystem.resolve(target));
+      }
+    }
+  }
+
+  private void cleanExistingDirectories() throws IOException {
+    // Directories which aren't listed themselves still hold listed entries, so keep those too.
+    Set<Path> keep = new HashSet<>();
+    for (Path path : extractedPaths) {
+      Path p = path;
+      while (p != null && keep.add(p)) {
+        p = p.getParent();
+      }
+    }
+    for (Path directory : existingDirectories) {
+      for (Path path : filesystem.getDirectoryContents(directory)) {
+        if (!keep.contains(path)) {
+          filesystem.deleteRecursivelyIfExists(path);
+        }
+      }
+    }
+  }
+
+  /** Reads the rest of the stream, which holds the central directory, and the modes it records. */
+  private static Map<String, Long> readCentralDirectoryModes(LookbehindInputStream stream)
+      throws IOException {
+    long tailOffset = stream.getPosition() - stream.getLookbehindSize();
+    ByteArrayOutputStream tailBytes = new ByteArrayOutputStream();
+    stream.writeLookbehindTo(tailBytes);
+    ByteStreams.copy(stream, tailBytes);
+    ByteBuffer tail = ByteBuffer.wrap(tailBytes.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+
+    int end = findEndOfCentralDirectory(tail);
+    long centralDirectoryOffset = Integer.toUnsignedLong(tail.getInt(end + 16));
+    int locator = end - ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE;
+    if (locator >= 0 && tail.getInt(locator) == ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+      // The zip64 end of central directory record holds the offset at position 48.
+      long zip64EndOffset = tail.getLong(locator + 8);
+      centralDirectoryOffset = tail.getLong(toTailIndex(zip64EndOffset, tailOffset, tail) + 48);
+    }
+
+    Map<String, Long> modes = new HashMap<>();
+    int position = toTailIndex(centralDirectoryOffset, tailOffset, tail);
+    while (position + CENTRAL_DIRECTORY_HEADER_SIZE <= tail.limit()
+        && tail.getInt(position) == CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+      int nameLength = Short.toUnsignedInt(tail.getShort(position + 28));
+      int extraLength = Short.toUnsignedInt(tail.getShort(position + 30));
+      int commentLength = Short.toUnsignedInt(tail.getShort(position + 32));
+      long externalAttributes = Integer.toUnsignedLong(tail.getInt(position + 38));
+      String name =
+          new String(
+              tail.array(), position + CENTRAL_DIRECTORY_HEADER_SIZE, nameLength, Charsets.UTF_8);
+      modes.put(name, externalAttributes >> 16);
+      position += CENTRAL_DIRECTORY_HEADER_SIZE + nameLength + extraLength + commentLength;
+    }
+    return modes;
+  }
+
+  private static int findEndOfCentralDirectory(ByteBuffer tail) throws ZipException {
+    // The record is followed by a variable length comment, so search backwards for it.
+    for (int i = tail.limit() - END_OF_CENTRAL_DIRECTORY_SIZE; i >= 0; i--) {
+      if (tail.getInt(i) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+        return i;
+      }
+    }
+    throw new ZipException("Could not find the end of the central directory.");
+  }
+
+  private static int toTailIndex(long offset, long tailOffset, ByteBuffer tail)
+      throws ZipException {
+    long index = offset - tailOffset;
+    if (index < 0 || index >= tail.limit()) {
+      throw new ZipException(
+          String.format("Offset %d of the central directory is not in the stream.", offset));
+    }
+    return (int) index;
+  }
+
+  /** Counts the bytes read from a stream and remembers the last of them. */
+  private static class LookbehindInputStream extends FilterInputStream {
+    private final byte[] lookbehind = new byte[LOOKBEHIND_SIZE];
+    private long position = 0;
+
+    private LookbehindInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = in.read();
+      if (b != -1) {
+        lookbehind[(int) (position % LOOKBEHIND_SIZE)] = (byte) b;
+        position++;
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int read = in.read(b, off, len);
+      for (int i = 0; i < read; i++) {
+        lookbehind[(int) (position % LOOKBEHIND_SIZE)] = b[off + i];
+        position++;
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      // Skipped bytes have to pass through the lookbehind as well.
+      byte[] buffer = new byte[(int) Math.min(n, 8192)];
+      long skipped = 0;
+      while (skipped < n) {
+        int read = read(buffer, 0, (int) Math.min(n - skipped, buffer.length));
+        if (read == -1) {
+          break;
+        }
+        skipped += read;
+      }
+      return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    @Override
+    public void close() {
+      // The underlying stream belongs to the caller.
+    }
+
+    private long getPosition() {
+      return position;
+    }
+
+    private int getLookbehindSize() {
+      return (int) Math.min(position, LOOKBEHIND_SIZE);
+    }
+
+    private void writeLookbehindTo(OutputStream out) throws IOException {
+      int size = getLookbehindSize();
+      int start = (int) ((position - size) % LOOKBEHIND_SIZE);
+      int firstPart = Math.min(size, LOOKBEHIND_SIZE - start);
+      out.write(lookbehind, start, firstPart);
+      out.write(lookbehind, 0, size - firstPart);
+    }
+  }
+}
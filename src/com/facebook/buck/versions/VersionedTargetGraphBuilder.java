@@ -37,16 +37,21 @@ import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
@@ -55,6 +60,7 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.StreamSupport;
+import javax.annotation.Nullable;
 
 /**
  * Takes a regular {@link TargetGraph}, resolves any versioned nodes, and returns a new graph with
@@ -84,16 +90,43 @@ public class VersionedTargetGraphBuilder {
   /** Count of root nodes. */
   private final AtomicInteger roots = new AtomicInteger();
 
+  /** Translated version sub-graphs of an earlier run, which are reused if still up to date. */
+  private final ImmutableMap<BuildTarget, TranslatedRoot> previousRoots;
+
+  /** The translated nodes of the version sub-graphs, by their target in the resolved graph. */
+  private final ConcurrentHashMap<BuildTarget, TranslatedNode> translatedNodes;
+
+  /** Roots whose version sub-graph was reused from {@link #previousRoots}. */
+  private final Set<BuildTarget> reusedRoots = ConcurrentHashMap.newKeySet();
+
+  /** Roots whose version sub-graph was translated by this run. */
+  private final Set<BuildTarget> translatedRoots = ConcurrentHashMap.newKeySet();
+
   VersionedTargetGraphBuilder(
       ForkJoinPool pool,
       VersionSelector versionSelector,
       TargetGraphAndBuildTargets unversionedTargetGraphAndBuildTargets,
       TypeCoercerFactory typeCoercerFactory) {
+    this(
+        pool,
+        versionSelector,
+        unversionedTargetGraphAndBuildTargets,
+        typeCoercerFactory,
+        ImmutableMap.of());
+  }
+
+  VersionedTargetGraphBuilder(
+      ForkJoinPool pool,
+      VersionSelector versionSelector,
+      TargetGraphAndBuildTargets unversionedTargetGraphAndBuildTargets,
+      TypeCoercerFactory typeCoercerFactory,
+      ImmutableMap<BuildTarget, TranslatedRoot> previousRoots) {
 
     this.pool = pool;
     this.versionSelector = versionSelector;
     this.unversionedTargetGraphAndBuildTargets = unversionedTargetGraphAndBuildTargets;
     this.typeCoercerFactory = typeCoercerFactory;
+    this.previousRoots = previousRoots;
 
     this.index =
         new ConcurrentHashMap<>(
@@ -110,6 +143,11 @@ public class VersionedTargetGraphBuilder {
             2 * unversionedTargetGraphAndBuildTargets.getTargetGraph().getNodes().size(),
             0.75f,
             pool.getParallelism());
+    this.translatedNodes =
+        new ConcurrentHashMap<>(
+            unversionedTargetGraphAndBuildTargets.getTargetGraph().getNodes().size(),
+            0.75f,
+            pool.getParallelism());
   }
 
   private TargetNode<?, ?> getNode(BuildTarget target) {
@@ -260,12 +298,114 @@ public class VersionedTargetGraphBuilder {
 
     long end = System.currentTimeMillis();
     LOG.debug(
-        "Finished version target graph transformation in %.2f (nodes %d, roots: %d)",
-        (end - start) / 1000.0, index.size(), roots.get());
+        "Finished version target graph transformation in %.2f (nodes %d, roots: %d, reused: %d)",
+        (end - start) / 1000.0, index.size(), roots.get(), reusedRoots.size());
 
     return targetGraphBuilder.build();
   }
 
+  /** @return the roots whose version sub-graph was reused from an earlier run. */
+  ImmutableSortedSet<BuildTarget> getReusedRoots() {
+    return ImmutableSortedSet.copyOf(reusedRoots);
+  }
+
+  /** @return the roots whose version sub-graph was translated by this run. */
+  ImmutableSortedSet<BuildTarget> getTranslatedRoots() {
+    return ImmutableSortedSet.copyOf(translatedRoots);
+  }
+
+  /**
+   * @return the translated version sub-graphs of all roots processed by {@link #build()}, which a
+   *     later run over a changed graph can reuse for the roots whose inputs did not change.
+   */
+  ImmutableMap<BuildTarget, TranslatedRoot> getTranslatedSubGraphs()
+      throws VersionException, InterruptedException {
+    Map<BuildTarget, TranslatedRoot> subGraphs = new ConcurrentHashMap<>();
+    try {
+      pool.submit(
+              () ->
+                  rootActions
+                      .keySet()
+                      .parallelStream()
+                      .forEach(
+                          root ->
+                              subGraphs.put(
+                                  root,
+                                  reusedRoots.contains(root)
+                                      ? previousRoots.get(root)
+                                      : createTranslatedRoot(getNode(root)))))
+          .get();
+    } catch (ExecutionException e) {
+      Throwables.throwIfInstanceOf(e.getCause(), VersionException.class);
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException(e);
+    }
+    return ImmutableMap.copyOf(subGraphs);
+  }
+
+  /** Collects the translated sub-graph of a root along with the nodes its translation read. */
+  private TranslatedRoot createTranslatedRoot(TargetNode<?, ?> root) {
+    Map<BuildTarget, Optional<TargetNode<?, ?>>> inputs = new HashMap<>();
+    Set<BuildTarget> visited = new HashSet<>();
+    addVersionInputs(root, inputs, visited);
+
+    ImmutableList.Builder<TranslatedNode> nodes = ImmutableList.builder();
+    Set<BuildTarget> seen = new HashSet<>();
+    Deque<BuildTarget> queue = new ArrayDeque<>();
+    queue.add(root.getBuildTarget());
+    while (!queue.isEmpty()) {
+      TranslatedNode translated = Preconditions.checkNotNull(translatedNodes.get(queue.remove()));
+      nodes.add(translated);
+      for (BuildTarget target : translated.getTranslatedTargets()) {
+        Optional<TargetNode<?, ?>> node = getNodeOptional(target);
+        inputs.put(target, node);
+        if (node.isPresent() && isInVersionSubGraph(node.get())) {
+          addVersionInputs(node.get(), inputs, visited);
+        }
+      }
+      for (BuildTarget dep : translated.getVersionedDeps()) {
+        if (seen.add(dep)) {
+          queue.add(dep);
+        }
+      }
+    }
+    return new TranslatedRoot(ImmutableMap.copyOf(inputs), nodes.build());
+  }
+
+  /**
+   * Adds the nodes which the version info of the given node and the translation of its version
+   * sub-graph is derived from to {@code inputs}.
+   */
+  private void addVersionInputs(
+      TargetNode<?, ?> node,
+      Map<BuildTarget, Optional<TargetNode<?, ?>>> inputs,
+      Set<BuildTarget> visited) {
+    inputs.put(node.getBuildTarget(), Optional.of(node));
+    if (!visited.add(node.getBuildTarget())) {
+      return;
+    }
+    Optional<TargetNode<VersionedAliasDescriptionArg, ?>> versionedNode =
+        TargetGraphVersionTransformations.getVersionedNode(node);
+    Iterable<BuildTarget> deps =
+        versionedNode.isPresent()
+            ? versionedNode.get().getConstructorArg().getVersions().values()
+            : Iterables.concat(
+                node.getParseDeps(),
+                TargetGraphVersionTransformations.getDeps(typeCoercerFactory, node));
+    for (BuildTarget depTarget : deps) {
+      TargetNode<?, ?> dep = getNode(depTarget);
+      inputs.put(depTarget, Optional.of(dep));
+      if (versionedNode.isPresent() || isInVersionSubGraph(dep)) {
+        addVersionInputs(dep, inputs, visited);
+      }
+    }
+  }
+
+  private static boolean isInVersionSubGraph(TargetNode<?, ?> node) {
+    return TargetGraphVersionTransformations.isVersionPropagator(node)
+        || TargetGraphVersionTransformations.getVersionedNode(node).isPresent();
+  }
+
   public static TargetGraphAndBuildTargets transform(
       VersionSelector versionSelector,
       TargetGraphAndBuildTargets unversionedTargetGraphAndBuildTargets,
@@ -283,6 +423,9 @@ public class VersionedTargetGraphBuilder {
 
     private final TargetNode<?, ?> node;
 
+    /** The targets looked up by the translation of the node currently being translated. */
+    @Nullable private Set<BuildTarget> translatedTargets;
+
     RootAction(TargetNode<?, ?> node) {
       this.node = node;
     }
@@ -393,9 +536,11 @@ public class VersionedTargetGraphBuilder {
       }
 
       // Create the new target node, with the new target and deps.
+      translatedTargets = new HashSet<>();
       TargetNode<?, ?> newNode =
           ((Optional<TargetNode<?, ?>>) (Optional<?>) targetTranslator.translateNode(node))
               .orElse(node);
+      ImmutableSet<BuildTarget> nodeTranslatedTargets = ImmutableSet.copyOf(translatedTargets);
 
       LOG.verbose(
           "%s: new node declared deps %s, extra deps %s, arg %s",
@@ -411,28 +556,35 @@ public class VersionedTargetGraphBuilder {
       } else {
         // Insert the node into the graph, indexing it by a base target containing only the version
         // flavor, if one exists.
-        targetGraphBuilder.addNode(
+        BuildTarget baseTarget =
             node.getBuildTarget()
                 .withFlavors(
                     Sets.difference(
-                        newNode.getBuildTarget().getFlavors(), node.getBuildTarget().getFlavors())),
-            newNode);
+                        newNode.getBuildTarget().getFlavors(), node.getBuildTarget().getFlavors()));
+        targetGraphBuilder.addNode(baseTarget, newNode);
+        ImmutableList.Builder<BuildTarget> versionedDeps = ImmutableList.builder();
         for (BuildTarget depTarget :
             FluentIterable.from(node.getParseDeps())
                 .filter(Predicates.or(isVersionPropagator, isVersioned))) {
-          targetGraphBuilder.addEdge(
-              newNode,
+          TargetNode<?, ?> dep =
               processVersionSubGraphNode(
                   resolveVersions(getNode(depTarget), selectedVersions),
                   selectedVersions,
-                  targetTranslator));
+                  targetTranslator);
+          targetGraphBuilder.addEdge(newNode, dep);
+          versionedDeps.add(dep.getBuildTarget());
         }
-        for (TargetNode<?, ?> dep :
-            process(
-                FluentIterable.from(node.getParseDeps())
-                    .filter(Predicates.not(Predicates.or(isVersionPropagator, isVersioned))))) {
+        ImmutableList<BuildTarget> deps =
+            FluentIterable.from(node.getParseDeps())
+                .filter(Predicates.not(Predicates.or(isVersionPropagator, isVersioned)))
+                .toList();
+        for (TargetNode<?, ?> dep : process(deps)) {
           targetGraphBuilder.addEdge(newNode, dep);
         }
+        translatedNodes.put(
+            newNode.getBuildTarget(),
+            new TranslatedNode(
+                baseTarget, newNode, versionedDeps.build(), deps, nodeTranslatedTargets));
       }
 
       return newNode;
@@ -450,6 +602,15 @@ public class VersionedTargetGraphBuilder {
       // For stats collection.
       roots.incrementAndGet();
 
+      // Reuse the sub-graph translated by an earlier run if none of the nodes it was translated
+      // from changed.
+      TranslatedRoot previous = previousRoots.get(root.getBuildTarget());
+      if (previous != null && previous.isUpToDate(VersionedTargetGraphBuilder.this)) {
+        reusedRoots.add(root.getBuildTarget());
+        return reuseRoot(root, previous);
+      }
+      translatedRoots.add(root.getBuildTarget());
+
       VersionInfo versionInfo = getVersionInfo(root);
 
       // Select the versions to use for this sub-graph.
@@ -486,6 +647,9 @@ public class VersionedTargetGraphBuilder {
 
             @Override
             public Optional<BuildTarget> translateBuildTarget(BuildTarget target) {
+              if (translatedTargets != null) {
+                translatedTargets.add(target);
+              }
               return cache.getUnchecked(target);
             }
 
@@ -503,6 +667,30 @@ public class VersionedTargetGraphBuilder {
       return processVersionSubGraphNode(root, selectedVersions, targetTranslator);
     }
 
+    /** Adds a version sub-graph translated by an earlier run to the graph. */
+    private TargetNode<?, ?> reuseRoot(TargetNode<?, ?> root, TranslatedRoot previous)
+        throws VersionException {
+      List<TranslatedNode> added = new ArrayList<>();
+      for (TranslatedNode translated : previous.getNodes()) {
+        translatedNodes.putIfAbsent(translated.getNode().getBuildTarget(), translated);
+        if (indexPutIfAbsent(translated.getNode()) == null) {
+          targetGraphBuilder.addNode(translated.getBaseTarget(), translated.getNode());
+          added.add(translated);
+        }
+      }
+      // All nodes of the sub-graph are indexed now, so the edges between them can be added.
+      for (TranslatedNode translated : added) {
+        for (BuildTarget dep : translated.getVersionedDeps()) {
+          targetGraphBuilder.addEdge(
+              translated.getNode(), Preconditions.checkNotNull(index.get(dep)));
+        }
+        for (TargetNode<?, ?> dep : process(translated.getDeps())) {
+          targetGraphBuilder.addEdge(translated.getNode(), dep);
+        }
+      }
+      return index.get(root.getBuildTarget());
+    }
+
     @Override
     protected void compute() {
       try {
@@ -516,4 +704,87 @@ public class VersionedTargetGraphBuilder {
       return node;
     }
   }
+
+  /** The translation of a node in a version sub-graph. */
+  static class TranslatedNode {
+
+    private final BuildTarget baseTarget;
+    private final TargetNode<?, ?> node;
+    private final ImmutableList<BuildTarget> versionedDeps;
+    private final ImmutableList<BuildTarget> deps;
+    private final ImmutableSet<BuildTarget> translatedTargets;
+
+    TranslatedNode(
+        BuildTarget baseTarget,
+        TargetNode<?, ?> node,
+        ImmutableList<BuildTarget> versionedDeps,
+        ImmutableList<BuildTarget> deps,
+        ImmutableSet<BuildTarget> translatedTargets) {
+      this.baseTarget = baseTarget;
+      this.node = node;
+      this.versionedDeps = versionedDeps;
+      this.deps = deps;
+      this.translatedTargets = translatedTargets;
+    }
+
+    /** @return the target the node is indexed by in the resolved graph. */
+    BuildTarget getBaseTarget() {
+      return baseTarget;
+    }
+
+    /** @return the translated node. */
+    TargetNode<?, ?> getNode() {
+      return node;
+    }
+
+    /** @return the translated targets of the deps which are part of the version sub-graph. */
+    ImmutableList<BuildTarget> getVersionedDeps() {
+      return versionedDeps;
+    }
+
+    /** @return the deps outside of the version sub-graph, which are processed on their own. */
+    ImmutableList<BuildTarget> getDeps() {
+      return deps;
+    }
+
+    /** @return the targets the translation of the node looked up. */
+    ImmutableSet<BuildTarget> getTranslatedTargets() {
+      return translatedTargets;
+    }
+  }
+
+  /**
+   * The translated version sub-graph of a root, along with the un-versioned nodes it was translated
+   * from.
+   */
+  static class TranslatedRoot {
+
+    private final ImmutableMap<BuildTarget, Optional<TargetNode<?, ?>>> inputs;
+    private final ImmutableList<TranslatedNode> nodes;
+
+    TranslatedRoot(
+        ImmutableMap<BuildTarget, Optional<TargetNode<?, ?>>> inputs,
+        ImmutableList<TranslatedNode> nodes) {
+      this.inputs = inputs;
+      this.nodes = nodes;
+    }
+
+    /** @return the translated nodes, starting with the root. */
+    ImmutableList<TranslatedNode> getNodes() {
+      return nodes;
+    }
+
+    /**
+     * @return whether the nodes the sub-graph was translated from are the same in the graph being
+     *     transformed, in which case the translation would yield the same sub-graph.
+     */
+    private boolean isUpToDate(VersionedTargetGraphBuilder builder) {
+      for (Map.Entry<BuildTarget, Optional<TargetNode<?, ?>>> input : inputs.entrySet()) {
+        if (!builder.getNodeOptional(input.getKey()).equals(input.getValue())) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
 }
@@ -20,10 +20,12 @@ import com.facebook.buck.config.BuckConfig;
 import com.facebook.buck.event.BuckEvent;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.rules.TargetGraphAndBuildTargets;
 import com.facebook.buck.rules.coercer.TypeCoercerFactory;
 import com.facebook.buck.util.immutables.BuckStyleTuple;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
 import java.util.concurrent.ForkJoinPool;
 import javax.annotation.Nullable;
 import org.immutables.value.Value;
@@ -34,19 +36,36 @@ public class VersionedTargetGraphCache {
 
   @Nullable private CachedVersionedTargetGraph cachedVersionedTargetGraph = null;
 
-  /** @return a new versioned target graph. */
-  private TargetGraphAndBuildTargets createdVersionedTargetGraph(
-      TargetGraphAndBuildTargets targetGraphAndBuildTargets,
-      ImmutableMap<String, VersionUniverse> versionUniverses,
+  /**
+   * @return a new versioned target graph, reusing the version sub-graphs of the given previous
+   *     translation whose inputs did not change.
+   */
+  private VersionedTargetGraphCacheResult createdVersionedTargetGraph(
+      ResultType resultType,
+      VersionedTargetGraphInputs inputs,
+      ImmutableMap<BuildTarget, VersionedTargetGraphBuilder.TranslatedRoot> previousSubGraphs,
       ForkJoinPool pool,
       TypeCoercerFactory typeCoercerFactory)
       throws VersionException, InterruptedException {
-    return VersionedTargetGraphBuilder.transform(
-        new VersionUniverseVersionSelector(
-            targetGraphAndBuildTargets.getTargetGraph(), versionUniverses),
-        targetGraphAndBuildTargets,
-        pool,
-        typeCoercerFactory);
+    TargetGraphAndBuildTargets targetGraphAndBuildTargets = inputs.getTargetGraphAndBuildTargets();
+    VersionedTargetGraphBuilder builder =
+        new VersionedTargetGraphBuilder(
+            pool,
+            new VersionUniverseVersionSelector(
+                targetGraphAndBuildTargets.getTargetGraph(), inputs.getVersionUniverses()),
+            targetGraphAndBuildTargets,
+            typeCoercerFactory,
+            previousSubGraphs);
+    TargetGraphAndBuildTargets newVersionedTargetGraph =
+        targetGraphAndBuildTargets.withTargetGraph(builder.build());
+    cachedVersionedTargetGraph =
+        CachedVersionedTargetGraph.of(
+            inputs, newVersionedTargetGraph, builder.getTranslatedSubGraphs());
+    return VersionedTargetGraphCacheResult.of(
+        resultType,
+        newVersionedTargetGraph,
+        builder.getReusedRoots(),
+        builder.getTranslatedRoots());
   }
 
   private VersionedTargetGraphCacheResult getVersionedTargetGraph(
@@ -62,17 +81,26 @@ public class VersionedTargetGraphCache {
     if (cachedVersionedTargetGraph != null
         && newInputs.equals(cachedVersionedTargetGraph.getInputs())) {
       return VersionedTargetGraphCacheResult.of(
-          ResultType.HIT, cachedVersionedTargetGraph.getTargetGraphAndBuildTargets());
+          ResultType.HIT,
+          cachedVersionedTargetGraph.getTargetGraphAndBuildTargets(),
+          ImmutableSortedSet.copyOf(cachedVersionedTargetGraph.getTranslatedSubGraphs().keySet()),
+          ImmutableSortedSet.of());
     }
 
-    // Build and cache new versioned target graph.
-    ResultType resultType =
-        cachedVersionedTargetGraph == null ? ResultType.EMPTY : ResultType.MISMATCH;
-    TargetGraphAndBuildTargets newVersionedTargetGraph =
-        createdVersionedTargetGraph(
-            targetGraphAndBuildTargets, versionUniverses, pool, typeCoercerFactory);
-    cachedVersionedTargetGraph = CachedVersionedTargetGraph.of(newInputs, newVersionedTargetGraph);
-    return VersionedTargetGraphCacheResult.of(resultType, newVersionedTargetGraph);
+    // Build and cache new versioned target graph. The version sub-graphs of the previous graph can
+    // only be reused if they were translated with the same version universes.
+    if (cachedVersionedTargetGraph == null) {
+      return createdVersionedTargetGraph(
+          ResultType.EMPTY, newInputs, ImmutableMap.of(), pool, typeCoercerFactory);
+    }
+    return createdVersionedTargetGraph(
+        ResultType.MISMATCH,
+        newInputs,
+        versionUniverses.equals(cachedVersionedTargetGraph.getInputs().getVersionUniverses())
+            ? cachedVersionedTargetGraph.getTranslatedSubGraphs()
+            : ImmutableMap.of(),
+        pool,
+        typeCoercerFactory);
   }
 
   /**
@@ -93,7 +121,15 @@ public class VersionedTargetGraphCache {
       VersionedTargetGraphCacheResult result =
           getVersionedTargetGraph(
               targetGraphAndBuildTargets, versionUniverses, pool, typeCoercerFactory);
-      LOG.info("versioned target graph " + result.getType().getDescription());
+      LOG.info(
+          "versioned target graph %s (version roots reused: %d, translated: %d)",
+          result.getType().getDescription(),
+          result.getReusedRoots().size(),
+          result.getTranslatedRoots().size());
+      LOG.debug(
+          "reused version roots %s, translated version roots %s",
+          result.getReusedRoots(),
+          result.getTranslatedRoots());
       eventBus.post(result.getType().getEvent());
       return result;
     } finally {
@@ -145,6 +181,9 @@ public class VersionedTargetGraphCache {
 
     /** @return a versioned target graph. */
     TargetGraphAndBuildTargets getTargetGraphAndBuildTargets();
+
+    /** @return the translated version sub-graphs of the graph, by their root. */
+    ImmutableMap<BuildTarget, VersionedTargetGraphBuilder.TranslatedRoot> getTranslatedSubGraphs();
   }
 
   @Value.Immutable
@@ -156,6 +195,12 @@ public class VersionedTargetGraphCache {
 
     /** @return a versioned target graph. */
     TargetGraphAndBuildTargets getTargetGraphAndBuildTargets();
+
+    /** @return the version roots whose sub-graph was taken from the cache. */
+    ImmutableSortedSet<BuildTarget> getReusedRoots();
+
+    /** @return the version roots whose sub-graph had to be translated. */
+    ImmutableSortedSet<BuildTarget> getTranslatedRoots();
   }
 
   /** The possible result types using the cache. */
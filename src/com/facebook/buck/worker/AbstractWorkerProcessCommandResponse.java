@@ -0,0 +1,30 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.worker;
+
+import com.facebook.buck.util.immutables.BuckStyleTuple;
+import org.immutables.value.Value;
+
+@Value.Immutable
+@BuckStyleTuple
+abstract class AbstractWorkerProcessCommandResponse {
+  /** Id of the command message this is a response to. */
+  public abstract int getMessageId();
+
+  /** Exit code of the command, or 1 or 2 if the worker could not interpret the command. */
+  public abstract int getExitCode();
+}
@@ -46,6 +46,12 @@ interface AbstractWorkerProcessParams {
   /** Maximum number of tools that pool can have. */
   int getMaxWorkers();
 
+  /**
+   * Maximum number of jobs each tool may run concurrently. Values greater than one are only used
+   * with tools which implement version 1 of the worker protocol.
+   */
+  int getMaxJobsPerWorker();
+
   /**
    * Identifies the instance of the persisted worker process pool. Defines when worker process pool
    * should be invalidated.
@@ -22,15 +22,26 @@ import com.facebook.buck.util.HumanReadableException;
 import com.facebook.buck.util.MoreStrings;
 import com.facebook.buck.util.ProcessExecutor;
 import com.facebook.buck.util.ProcessExecutorParams;
+import com.facebook.buck.util.concurrent.MostExecutors;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
 
@@ -43,11 +54,20 @@ public class WorkerProcess implements Closeable {
   private final ProjectFilesystem filesystem;
   private final Path tmpPath;
   private final Path stdErr;
+  private final int maxConcurrentJobs;
   private final AtomicInteger currentMessageID = new AtomicInteger();
   private boolean handshakePerformed = false;
   @Nullable private WorkerProcessProtocol.CommandSender protocol;
   @Nullable private ProcessExecutor.LaunchedProcess launchedProcess;
 
+  // Only used if the worker agreed to run several jobs concurrently. Responses are then read by a
+  // dedicated thread, which hands them to the threads waiting for them.
+  @Nullable private ExecutorService responseReader;
+  private final ConcurrentMap<Integer, SettableFuture<Integer>> pendingResponses =
+      new ConcurrentHashMap<>();
+  private final Semaphore responsesToRead = new Semaphore(0);
+  @Nullable private volatile Throwable responseReaderFailure;
+
   /**
    * Worker process is a process that stays alive and receives commands which describe jobs. Worker
    * processes may be combined into pools so they can perform different jobs concurrently. It
@@ -67,7 +87,25 @@ public class WorkerProcess implements Closeable {
       ProjectFilesystem filesystem,
       Path tmpPath)
       throws IOException {
+    this(executor, processParams, filesystem, tmpPath, 1);
+  }
+
+  /**
+   * Same as {@link #WorkerProcess(ProcessExecutor, ProcessExecutorParams, ProjectFilesystem,
+   * Path)}, but if {@code maxConcurrentJobs} is greater than one, asks the worker during the
+   * handshake to accept up to that many jobs at a time. Submitted jobs then only block the calling
+   * thread, not other threads submitting jobs to the same process.
+   */
+  public WorkerProcess(
+      ProcessExecutor executor,
+      ProcessExecutorParams processParams,
+      ProjectFilesystem filesystem,
+      Path tmpPath,
+      int maxConcurrentJobs)
+      throws IOException {
+    Preconditions.checkArgument(maxConcurrentJobs > 0);
     this.executor = executor;
+    this.maxConcurrentJobs = maxConcurrentJobs;
     this.stdErr = Files.createTempFile("buck-worker-", "-stderr.log");
     this.processParams =
         processParams.withRedirectError(ProcessBuilder.Redirect.to(stdErr.toFile()));
@@ -87,27 +125,64 @@ public class WorkerProcess implements Closeable {
         "Starting up process %d using command: \'%s\'",
         this.hashCode(), Joiner.on(' ').join(processParams.getCommand()));
     launchedProcess = executor.launchProcess(processParams);
-    protocol =
-        new WorkerProcessProtocolZero.CommandSender(
-            launchedProcess.getOutputStream(),
-            launchedProcess.getInputStream(),
-            stdErr,
-            () -> {
-              if (launchedProcess != null) {
-                executor.destroyLaunchedProcess(launchedProcess);
-              }
-            });
+    Runnable onClose =
+        () -> {
+          if (launchedProcess != null) {
+            executor.destroyLaunchedProcess(launchedProcess);
+          }
+        };
+    if (maxConcurrentJobs > 1) {
+      protocol =
+          new WorkerProcessProtocolOne.CommandSender(
+              launchedProcess.getOutputStream(), launchedProcess.getInputStream(), stdErr, onClose);
+    } else {
+      protocol =
+          new WorkerProcessProtocolZero.CommandSender(
+              launchedProcess.getOutputStream(), launchedProcess.getInputStream(), stdErr, onClose);
+    }
 
     LOG.debug("Handshaking with process %d", this.hashCode());
     protocol.handshake(currentMessageID.getAndIncrement());
     handshakePerformed = true;
+
+    if (protocol instanceof WorkerProcessProtocol.MultiplexingCommandSender
+        && ((WorkerProcessProtocol.MultiplexingCommandSender) protocol)
+            .supportsConcurrentCommands()) {
+      WorkerProcessProtocol.MultiplexingCommandSender multiplexingProtocol =
+          (WorkerProcessProtocol.MultiplexingCommandSender) protocol;
+      responseReader =
+          MostExecutors.newSingleThreadExecutor(
+              String.format("WorkerProcess %d response reader", this.hashCode()));
+      responseReader.execute(() -> readResponses(multiplexingProtocol));
+    } else if (maxConcurrentJobs > 1) {
+      LOG.info(
+          "Process %d does not support concurrent jobs, running one job at a time.",
+          this.hashCode());
+    }
   }
 
-  public synchronized WorkerJobResult submitAndWaitForJob(String jobArgs) throws IOException {
+  /**
+   * @return how many jobs can be submitted to this process at the same time. This is only known
+   *     once the handshake was performed.
+   */
+  public int getMaxConcurrentJobs() {
+    return responseReader == null ? 1 : maxConcurrentJobs;
+  }
+
+  public WorkerJobResult submitAndWaitForJob(String jobArgs) throws IOException {
     Preconditions.checkState(
         protocol != null,
         "Tried to submit a job to the worker process before the handshake was performed.");
+    if (responseReader != null) {
+      return runJob(jobArgs, true);
+    }
+    synchronized (this) {
+      return runJob(jobArgs, false);
+    }
+  }
 
+  private WorkerJobResult runJob(String jobArgs, boolean concurrent) throws IOException {
+    WorkerProcessProtocol.CommandSender protocol = Preconditions.checkNotNull(this.protocol);
     int messageID = currentMessageID.getAndAdd(1);
     Path argsPath = Paths.get(tmpPath.toString(), String.format("%d.args", messageID));
     Path stdoutPath = Paths.get(tmpPath.toString(), String.format("%d.out", messageID));
@@ -119,9 +194,16 @@ public class WorkerProcess implements Closeable {
     LOG.debug(
         "Sending job %d to process %d \n" + " job arguments: \'%s\'",
         messageID, this.hashCode(), jobArgs);
-    protocol.send(messageID, WorkerProcessCommand.of(argsPath, stdoutPath, stderrPath));
-    LOG.debug("Receiving response for job %d from process %d", messageID, this.hashCode());
-    int exitCode = protocol.receiveCommandResponse(messageID);
+    int exitCode;
+    if (concurrent) {
+      exitCode =
+          sendAndWaitForResponse(
+              messageID, WorkerProcessCommand.of(argsPath, stdoutPath, stderrPath));
+    } else {
+      protocol.send(messageID, WorkerProcessCommand.of(argsPath, stdoutPath, stderrPath));
+      LOG.debug("Receiving response for job %d from process %d", messageID, this.hashCode());
+      exitCode = protocol.receiveCommandResponse(messageID);
+    }
     Optional<String> stdout = filesystem.readFileIfItExists(stdoutPath);
     Optional<String> stderr = filesystem.readFileIfItExists(stderrPath);
     LOG.debug(
@@ -134,10 +216,75 @@ public class WorkerProcess implements Closeable {
     return WorkerJobResult.of(exitCode, stdout, stderr);
   }
 
+  private int sendAndWaitForResponse(int messageID, WorkerProcessCommand command)
+      throws IOException {
+    WorkerProcessProtocol.CommandSender protocol = Preconditions.checkNotNull(this.protocol);
+    SettableFuture<Integer> response = SettableFuture.create();
+    // Register the job before sending it, the response may arrive before send() returns.
+    pendingResponses.put(messageID, response);
+    try {
+      if (responseReaderFailure != null) {
+        throw new IOException(
+            "No longer reading responses from the worker process.", responseReaderFailure);
+      }
+      synchronized (protocol) {
+        protocol.send(messageID, command);
+      }
+    } catch (IOException | RuntimeException e) {
+      pendingResponses.remove(messageID);
+      throw e;
+    }
+    responsesToRead.release();
+
+    try {
+      return Uninterruptibles.getUninterruptibly(response);
+    } catch (ExecutionException e) {
+      Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IOException(e.getCause());
+    }
+  }
+
+  private void readResponses(WorkerProcessProtocol.MultiplexingCommandSender protocol) {
+    try {
+      while (true) {
+        // Only read when a response is expected, so that close() can read the end of the stream.
+        responsesToRead.acquire();
+        WorkerProcessCommandResponse response = protocol.receiveNextCommandResponse();
+        SettableFuture<Integer> pendingResponse =
+            pendingResponses.remove(response.getMessageId());
+        if (pendingResponse == null) {
+          throw new HumanReadableException(
+              "Received a response for unknown job %d from the worker process %s.",
+              response.getMessageId(), Joiner.on(' ').join(processParams.getCommand()));
+        }
+        pendingResponse.set(response.getExitCode());
+      }
+    } catch (InterruptedException e) {
+      // We're being closed.
+    } catch (Throwable t) {
+      LOG.debug(t, "Failed to read a response from process %d.", this.hashCode());
+      responseReaderFailure = t;
+      for (Map.Entry<Integer, SettableFuture<Integer>> entry : pendingResponses.entrySet()) {
+        if (pendingResponses.remove(entry.getKey(), entry.getValue())) {
+          entry.getValue().setException(t);
+        }
+      }
+    }
+  }
+
   @Override
   public void close() {
     LOG.debug("Closing process %d", this.hashCode());
     try {
+      if (responseReader != null) {
+        if (!pendingResponses.isEmpty() && launchedProcess != null) {
+          // The response reader is blocked on jobs which are still running, make it fail them.
+          executor.destroyLaunchedProcess(launchedProcess);
+        }
+        responseReader.shutdownNow();
+        responseReader.awaitTermination(1, TimeUnit.MINUTES);
+      }
       if (protocol != null) {
         protocol.close();
       }
@@ -39,6 +39,10 @@ public abstract class WorkerProcessPool implements Closeable {
   @GuardedBy("createdWorkers")
   private final List<WorkerProcess> createdWorkers;
 
+  // Processes which run several jobs concurrently are in availableWorkers once per free job slot.
+  @GuardedBy("createdWorkers")
+  private int createdJobSlots = 0;
+
   private final HashCode poolHash;
 
   public WorkerProcessPool(int maxWorkers, HashCode poolHash) {
@@ -82,15 +86,25 @@ public abstract class WorkerProcessPool implements Closeable {
       }
       WorkerProcess process = Preconditions.checkNotNull(startWorkerProcess());
       createdWorkers.add(process);
+      int jobSlots = process.getMaxConcurrentJobs();
+      createdJobSlots += jobSlots;
+      // The first slot goes to the caller.
+      for (int i = 1; i < jobSlots; i++) {
+        availableWorkers.offer(process);
+      }
       return process;
     }
   }
 
   public void returnWorkerProcess(WorkerProcess workerProcess) {
     synchronized (createdWorkers) {
-      Preconditions.checkArgument(
-          createdWorkers.contains(workerProcess),
-          "Trying to return a foreign WorkerProcess to the pool");
+      if (!createdWorkers.contains(workerProcess)) {
+        // Another job running on the same process may have destroyed it in the meantime.
+        Preconditions.checkArgument(
+            workerProcess.getMaxConcurrentJobs() > 1,
+            "Trying to return a foreign WorkerProcess to the pool");
+        return;
+      }
     }
     // Note: put() can throw, offer doesn't.
     boolean added = availableWorkers.offer(workerProcess);
@@ -102,7 +116,13 @@ public abstract class WorkerProcessPool implements Closeable {
   public void destroyWorkerProcess(WorkerProcess workerProcess) {
     synchronized (createdWorkers) {
       boolean removed = createdWorkers.remove(workerProcess);
+      if (!removed && workerProcess.getMaxConcurrentJobs() > 1) {
+        // Already destroyed by another job running on the same process.
+        return;
+      }
       Preconditions.checkArgument(removed, "Trying to return a foreign WorkerProcess to the pool");
+      createdJobSlots -= workerProcess.getMaxConcurrentJobs();
+      availableWorkers.removeIf(process -> process == workerProcess);
     }
     workerProcess.close();
   }
@@ -113,7 +133,7 @@ public abstract class WorkerProcessPool implements Closeable {
     synchronized (createdWorkers) {
       processesToClose = ImmutableSet.copyOf(createdWorkers);
       Preconditions.checkState(
-          availableWorkers.size() == createdWorkers.size(),
+          availableWorkers.size() == createdJobSlots,
           "WorkerProcessPool was still running when shutdown was called.");
     }
 
@@ -119,7 +119,9 @@ public class WorkerProcessPoolFactory {
           protected WorkerProcess startWorkerProcess() throws IOException {
             Path tmpDir = workerTmpDir.resolve(Integer.toString(workerNumber.getAndIncrement()));
             filesystem.mkdirs(tmpDir);
-            WorkerProcess process = createWorkerProcess(processParams, context, tmpDir);
+            WorkerProcess process =
+                createWorkerProcess(
+                    processParams, context, tmpDir, paramsToUse.getMaxJobsPerWorker());
             process.ensureLaunchAndHandshake();
             return process;
           }
@@ -161,8 +163,12 @@ public class WorkerProcessPoolFactory {
 
   @VisibleForTesting
   public WorkerProcess createWorkerProcess(
-      ProcessExecutorParams processParams, ExecutionContext context, Path tmpDir)
+      ProcessExecutorParams processParams,
+      ExecutionContext context,
+      Path tmpDir,
+      int maxJobsPerWorker)
       throws IOException {
-    return new WorkerProcess(context.getProcessExecutor(), processParams, filesystem, tmpDir);
+    return new WorkerProcess(
+        context.getProcessExecutor(), processParams, filesystem, tmpDir, maxJobsPerWorker);
   }
 }
@@ -32,6 +32,23 @@ public interface WorkerProcessProtocol {
     void close() throws IOException;
   }
 
+  /**
+   * A {@link CommandSender} for protocol versions which allow several commands to be in flight at
+   * once. The worker may respond to them in any order, so responses are matched to commands by
+   * their ids.
+   */
+  interface MultiplexingCommandSender extends CommandSender {
+    /**
+     * @return whether the worker agreed during the handshake to run several commands at once. If
+     *     it didn't, commands must be sent one at a time and their responses received with {@link
+     *     #receiveCommandResponse(int)}.
+     */
+    boolean supportsConcurrentCommands();
+
+    /** Blocks until the worker responds to any of the commands in flight. */
+    WorkerProcessCommandResponse receiveNextCommandResponse() throws IOException;
+  }
+
   interface CommandReceiver extends Closeable {
     void handshake(int messageId) throws IOException;
 
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.worker;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+/**
+ * Version 1 of the worker protocol uses the same messages as {@link WorkerProcessProtocolZero}, but
+ * lets Buck send further commands before the worker responded to the previous ones. The worker may
+ * run the commands concurrently and respond to them in any order; every response carries the id of
+ * the command it belongs to.
+ *
+ * <p>Buck asks for version 1 in its handshake. Workers which only implement version 0 may reply
+ * with version 0 instead, in which case commands are sent one at a time as before.
+ */
+public class WorkerProcessProtocolOne {
+
+  static final String PROTOCOL_VERSION = "1";
+
+  public static class CommandSender extends WorkerProcessProtocolZero.CommandSender
+      implements WorkerProcessProtocol.MultiplexingCommandSender {
+
+    private boolean supportsConcurrentCommands = false;
+
+    public CommandSender(
+        OutputStream processStdin, InputStream processStdout, Path stdErr, Runnable onClose) {
+      super(processStdin, processStdout, stdErr, onClose);
+    }
+
+    /*
+     Sends a message that looks like this:
+       [
+         {
+           id: 0,
+           type: 'handshake',
+           protocol_version: '1',
+           capabilities: []
+         }
+
+     and accepts a response with either protocol_version '1' or '0'.
+    */
+    @Override
+    public void handshake(int messageId) throws IOException {
+      WorkerProcessProtocolZero.sendHandshake(
+          getProcessStdinWriter(), messageId, PROTOCOL_VERSION);
+      String protocolVersion =
+          WorkerProcessProtocolZero.receiveHandshake(
+              getProcessStdoutReader(),
+              messageId,
+              getStdErr(),
+              ImmutableSet.of(PROTOCOL_VERSION, WorkerProcessProtocolZero.PROTOCOL_VERSION));
+      supportsConcurrentCommands = protocolVersion.equals(PROTOCOL_VERSION);
+    }
+
+    @Override
+    public boolean supportsConcurrentCommands() {
+      return supportsConcurrentCommands;
+    }
+
+    @Override
+    public WorkerProcessCommandResponse receiveNextCommandResponse() throws IOException {
+      Preconditions.checkState(
+          supportsConcurrentCommands,
+          "The worker process did not agree to run several commands concurrently.");
+      return receiveNextResponse();
+    }
+  }
+}
@@ -17,7 +17,9 @@ package com.facebook.buck.worker;
 
 import com.facebook.buck.util.HumanReadableException;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
@@ -51,20 +53,22 @@ public class WorkerProcessProtocolZero {
       this.onClose = onClose;
     }
 
-    @VisibleForTesting
     JsonReader getProcessStdoutReader() {
       return processStdoutReader;
     }
 
-    @VisibleForTesting
     JsonWriter getProcessStdinWriter() {
       return processStdinWriter;
     }
 
+    Optional<Path> getStdErr() {
+      return stdErr;
+    }
+
     @Override
     public void handshake(int messageId) throws IOException {
-      sendHandshake(processStdinWriter, messageId);
-      receiveHandshake(processStdoutReader, messageId, stdErr);
+      sendHandshake(processStdinWriter, messageId, PROTOCOL_VERSION);
+      receiveHandshake(processStdoutReader, messageId, stdErr, ImmutableSet.of(PROTOCOL_VERSION));
     }
 
     /*
@@ -122,6 +126,18 @@ public class WorkerProcessProtocolZero {
     */
     @Override
     public int receiveCommandResponse(int messageID) throws IOException {
+      WorkerProcessCommandResponse response = receiveNextResponse();
+      if (response.getMessageId() != messageID) {
+        throw new HumanReadableException(
+            String.format(
+                "Expected response's \"id\" value to be " + "\"%d\", got \"%d\" instead.",
+                messageID, response.getMessageId()));
+      }
+      return response.getExitCode();
+    }
+
+    /** Reads the next response, regardless of which command it belongs to. */
+    WorkerProcessCommandResponse receiveNextResponse() throws IOException {
       int id = -1;
       int exitCode = -1;
       String type = "";
@@ -149,12 +165,6 @@ public class WorkerProcessProtocolZero {
             getStdErrorOutput(stdErr));
       }
 
-      if (id != messageID) {
-        throw new HumanReadableException(
-            String.format(
-                "Expected response's \"id\" value to be " + "\"%d\", got \"%d\" instead.",
-                messageID, id));
-      }
       if (!type.equals(TYPE_RESULT) && !type.equals(TYPE_ERROR)) {
         throw new HumanReadableException(
             String.format(
@@ -162,7 +172,7 @@ public class WorkerProcessProtocolZero {
                     + "to be one of [\"%s\",\"%s\"], got \"%s\" instead.",
                 TYPE_RESULT, TYPE_ERROR, type));
       }
-      return exitCode;
+      return WorkerProcessCommandResponse.of(id, exitCode);
     }
 
     @Override
@@ -211,8 +221,9 @@ public class WorkerProcessProtocolZero {
 
     @Override
     public void handshake(int messageId) throws IOException {
-      sendHandshake(processStdinWriter, messageId);
-      receiveHandshake(processStdoutReader, messageId, Optional.empty());
+      sendHandshake(processStdinWriter, messageId, PROTOCOL_VERSION);
+      receiveHandshake(
+          processStdoutReader, messageId, Optional.empty(), ImmutableSet.of(PROTOCOL_VERSION));
     }
 
     /*
@@ -355,7 +366,7 @@ public class WorkerProcessProtocolZero {
 
   private static final String TYPE_HANDSHAKE = "handshake";
   private static final String TYPE_COMMAND = "command";
-  private static final String PROTOCOL_VERSION = "0";
+  static final String PROTOCOL_VERSION = "0";
   private static final String TYPE_RESULT = "result";
   private static final String TYPE_ERROR = "error";
 
@@ -369,12 +380,13 @@ public class WorkerProcessProtocolZero {
          capabilities: []
        }
   */
-  private static void sendHandshake(JsonWriter writer, int messageId) throws IOException {
+  static void sendHandshake(JsonWriter writer, int messageId, String protocolVersion)
+      throws IOException {
     writer.beginArray();
     writer.beginObject();
     writer.name("id").value(messageId);
     writer.name("type").value(TYPE_HANDSHAKE);
-    writer.name("protocol_version").value(PROTOCOL_VERSION);
+    writer.name("protocol_version").value(protocolVersion);
     writer.name("capabilities").beginArray().endArray();
     writer.endObject();
     writer.flush();
@@ -390,7 +402,12 @@ public class WorkerProcessProtocolZero {
          capabilities: []
        }
   */
-  private static void receiveHandshake(JsonReader reader, int messageId, Optional<Path> stdErr)
+  /** @return the protocol version the other end replied with, which is one of the given ones. */
+  static String receiveHandshake(
+      JsonReader reader,
+      int messageId,
+      Optional<Path> stdErr,
+      ImmutableSet<String> acceptedProtocolVersions)
       throws IOException {
     int id = -1;
     String type = "";
@@ -440,13 +457,14 @@ public class WorkerProcessProtocolZero {
               "Expected handshake response's \"type\" " + "to be \"%s\", got \"%s\" instead.",
               TYPE_HANDSHAKE, type));
     }
-    if (!protocolVersion.equals(PROTOCOL_VERSION)) {
+    if (!acceptedProtocolVersions.contains(protocolVersion)) {
       throw new HumanReadableException(
           String.format(
               "Expected handshake response's "
                   + "\"protocol_version\" to be \"%s\", got \"%s\" instead.",
-              PROTOCOL_VERSION, protocolVersion));
+              Joiner.on("\" or \"").join(acceptedProtocolVersions), protocolVersion));
     }
+    return protocolVersion;
   }
 
   private static String getStdErrorOutput(Optional<Path> stdErr) throws IOException {
@@ -28,6 +28,8 @@ import com.facebook.buck.util.MoreCollectors;
 import com.facebook.buck.util.RichStream;
 import com.facebook.buck.util.concurrent.ExplicitRunExecutorService;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.hash.HashCode;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.io.IOException;
@@ -92,6 +94,40 @@ public class AbstractAsynchronousCacheTest {
     }
   }
 
+  @Test
+  public void testMultiContainsReschedulesSkippedKeys() throws Exception {
+    ExplicitRunExecutorService service = new ExplicitRunExecutorService();
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+
+    List<ImmutableList<RuleKey>> requestedRuleKeys = new ArrayList<>();
+
+    try (AbstractAsynchronousCache cache =
+        new RequestedKeyRecordingAsynchronousCache(
+            service, filesystem, requestedRuleKeys, 3, 3)) {
+      ImmutableList<RuleKey> keys =
+          ImmutableList.of(
+              new RuleKey(HashCode.fromInt(0)),
+              new RuleKey(HashCode.fromInt(1)),
+              new RuleKey(HashCode.fromInt(2)));
+      ListenableFuture<ImmutableMap<RuleKey, CacheResult>> future =
+          cache.containsAsync(ImmutableSet.copyOf(keys));
+
+      service.run();
+
+      assertTrue(future.isDone());
+      MoreAsserts.assertIterablesEquals(keys, future.get().keySet());
+      for (CacheResult result : future.get().values()) {
+        assertEquals(CacheResultType.CONTAINS, result.getType());
+      }
+
+      // Each request only answers for its first key, and the rest are requested again.
+      assertEquals(3, requestedRuleKeys.size());
+      MoreAsserts.assertIterablesEquals(keys, requestedRuleKeys.get(0));
+      MoreAsserts.assertIterablesEquals(keys.subList(1, 3), requestedRuleKeys.get(1));
+      MoreAsserts.assertIterablesEquals(keys.subList(2, 3), requestedRuleKeys.get(2));
+    }
+  }
+
   private static class NoOpEventListener implements AbstractAsynchronousCache.CacheEventListener {
     @Override
     public AbstractAsynchronousCache.StoreEvents storeScheduled(
@@ -198,6 +234,21 @@ public class AbstractAsynchronousCacheTest {
       return MultiFetchResult.of(ImmutableList.copyOf(result));
     }
 
+    @Override
+    protected ImmutableMap<RuleKey, CacheResult> multiContainsImpl(
+        ImmutableSet<RuleKey> ruleKeys) throws IOException {
+      requestedRuleKeys.add(ruleKeys.asList());
+      ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+      for (RuleKey ruleKey : ruleKeys) {
+        results.put(
+            ruleKey,
+            ruleKey.equals(ruleKeys.asList().get(0))
+                ? CacheResult.contains(getName(), getMode())
+                : CacheResult.skipped());
+      }
+      return results.build();
+    }
+
     @Override
     public void close() {}
 
@@ -23,6 +23,8 @@ import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.slb.HttpService;
 import com.facebook.buck.testutil.FakeProjectFilesystem;
 import com.facebook.buck.util.concurrent.FakeListeningExecutorService;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import java.io.IOException;
@@ -95,6 +97,12 @@ public class AbstractNetworkCacheTest {
             return StoreResult.builder().build();
           }
 
+          @Override
+          protected ImmutableMap<RuleKey, CacheResult> multiContainsImpl(
+              ImmutableSet<RuleKey> ruleKeys) throws IOException {
+            return null;
+          }
+
           @Override
           protected MultiFetchResult multiFetchImpl(
               Iterable<AbstractAsynchronousCache.FetchRequest> requests) throws IOException {
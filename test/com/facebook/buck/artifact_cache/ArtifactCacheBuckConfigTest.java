@@ -37,6 +37,7 @@ import java.net.URI;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.OptionalInt;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
 import org.junit.Test;
@@ -178,6 +179,26 @@ public class ArtifactCacheBuckConfigTest {
         dirCacheConfig.getCacheDir(), Matchers.equalTo(Paths.get("cache_dir").toAbsolutePath()));
     assertThat(dirCacheConfig.getCacheReadMode(), Matchers.is(CacheReadMode.READONLY));
     assertThat(dirCacheConfig.getMaxSizeBytes(), Matchers.equalTo(Optional.of(1022L)));
+    assertThat(dirCacheConfig.getLayout(), Matchers.is(DirCacheLayout.RULE_KEY));
+  }
+
+  @Test
+  public void testDirCacheLayout() throws IOException {
+    ArtifactCacheBuckConfig config =
+        createFromText("[cache]", "dir = cache_dir", "dir_layout = content_addressed");
+    DirCacheEntry dirCacheConfig = config.getCacheEntries().getDirCacheEntries().asList().get(0);
+
+    assertThat(dirCacheConfig.getLayout(), Matchers.is(DirCacheLayout.CONTENT_ADDRESSED));
+  }
+
+  @Test
+  public void testArtifactContainerFormat() throws IOException {
+    assertThat(
+        createFromText("[cache]", "dir = cache_dir").getArtifactContainerFormat(),
+        Matchers.is(ArtifactContainerFormat.ZIP));
+    assertThat(
+        createFromText("[cache]", "artifact_format = block_deflate").getArtifactContainerFormat(),
+        Matchers.is(ArtifactContainerFormat.BLOCK_DEFLATE));
   }
 
   @Test
@@ -284,6 +305,23 @@ public class ArtifactCacheBuckConfigTest {
                     .build())));
   }
 
+  @Test
+  public void testServedCacheMaxConcurrentRequests() throws IOException {
+    ArtifactCacheBuckConfig config = createFromText("[cache]", "serve_local_cache = true");
+    assertThat(
+        config.getServedLocalCacheMaxConcurrentRequests(), Matchers.equalTo(OptionalInt.empty()));
+
+    config = createFromText("[cache]", "served_local_cache_max_concurrent_requests = 16");
+    assertThat(
+        config.getServedLocalCacheMaxConcurrentRequests(), Matchers.equalTo(OptionalInt.of(16)));
+  }
+
+  @Test(expected = HumanReadableException.class)
+  public void testServedCacheMaxConcurrentRequestsMustBePositive() throws IOException {
+    createFromText("[cache]", "served_local_cache_max_concurrent_requests = 0")
+        .getServedLocalCacheMaxConcurrentRequests();
+  }
+
   @Test
   public void testExpandUserHomeCacheDir() throws IOException {
     ArtifactCacheBuckConfig config = createFromText("[cache]", "dir = ~/cache_dir");
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.io.file.BorrowablePath;
+import com.facebook.buck.io.file.LazyPath;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.Futures;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ContentAddressedDirArtifactCacheTest {
+  @Rule public TemporaryPaths tmpDir = new TemporaryPaths();
+
+  private static final RuleKey RULE_KEY_A = new RuleKey("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+  private static final RuleKey RULE_KEY_B = new RuleKey("bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb");
+  private static final RuleKey RULE_KEY_C = new RuleKey("cccccccccccccccccccccccccccccccccccccccc");
+
+  private ProjectFilesystem filesystem;
+  private ContentAddressedDirArtifactCache cache;
+
+  @Before
+  public void setUp() throws InterruptedException, IOException {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmpDir.getRoot());
+  }
+
+  @After
+  public void tearDown() {
+    if (cache != null) {
+      cache.close();
+    }
+  }
+
+  @Test
+  public void fetchLinksTheStoredArtifactAndReturnsItsMetadata() throws IOException {
+    cache = newCache(Optional.empty());
+    Path artifact = writeArtifact("artifact", "contents");
+    cache.store(
+        ArtifactInfo.builder()
+            .addRuleKeys(RULE_KEY_A, RULE_KEY_B)
+            .setMetadata(ImmutableMap.of("key", "value"))
+            .build(),
+        BorrowablePath.notBorrowablePath(artifact));
+
+    Path output = tmpDir.getRoot().resolve("output");
+    CacheResult result =
+        Futures.getUnchecked(cache.fetchAsync(RULE_KEY_B, LazyPath.ofInstance(output)));
+
+    assertEquals(CacheResultType.HIT, result.getType());
+    assertEquals(ImmutableMap.of("key", "value"), result.getMetadata());
+    assertEquals("contents", new String(Files.readAllBytes(output), UTF_8));
+    assertTrue(Files.isSameFile(output, contentPath("contents")));
+    if (Files.getFileStore(output).supportsFileAttributeView(PosixFileAttributeView.class)) {
+      assertFalse(
+          Files.getPosixFilePermissions(contentPath("contents"))
+              .contains(PosixFilePermission.OWNER_WRITE));
+    }
+  }
+
+  @Test
+  public void identicalArtifactsAreStoredOnce() throws IOException {
+    cache = newCache(Optional.empty());
+    cache.store(
+        ArtifactInfo.builder().addRuleKeys(RULE_KEY_A).build(),
+        BorrowablePath.notBorrowablePath(writeArtifact("first", "contents")));
+    cache.store(
+        ArtifactInfo.builder().addRuleKeys(RULE_KEY_B).build(),
+        BorrowablePath.borrowablePath(writeArtifact("second", "contents")));
+
+    try (Stream<Path> contents = Files.walk(tmpDir.getRoot().resolve("cache/content"))) {
+      assertEquals(1, contents.filter(Files::isRegularFile).count());
+    }
+    Path output = tmpDir.getRoot().resolve("output");
+    assertEquals(
+        CacheResultType.HIT,
+        Futures.getUnchecked(cache.fetchAsync(RULE_KEY_A, LazyPath.ofInstance(output)))
+            .getType());
+  }
+
+  @Test
+  public void fetchOfEvictedArtifactIsAMiss() throws IOException {
+    cache = newCache(Optional.empty());
+    cache.store(
+        ArtifactInfo.builder().addRuleKeys(RULE_KEY_A).build(),
+        BorrowablePath.notBorrowablePath(writeArtifact("artifact", "contents")));
+    Files.delete(contentPath("contents"));
+
+    Path output = tmpDir.getRoot().resolve("output");
+    assertEquals(
+        CacheResultType.MISS,
+        Futures.getUnchecked(cache.fetchAsync(RULE_KEY_A, LazyPath.ofInstance(output)))
+            .getType());
+    assertFalse(filesystem.exists(cache.getKeyPath(RULE_KEY_A)));
+  }
+
+  @Test
+  public void fetchToAMissingOutputDirectoryIsAnErrorAndKeepsTheKey() throws IOException {
+    cache = newCache(Optional.empty());
+    cache.store(
+        ArtifactInfo.builder().addRuleKeys(RULE_KEY_A).build(),
+        BorrowablePath.notBorrowablePath(writeArtifact("artifact", "contents")));
+
+    Path output = tmpDir.getRoot().resolve("missing/output");
+    assertEquals(
+        CacheResultType.ERROR,
+        Futures.getUnchecked(cache.fetchAsync(RULE_KEY_A, LazyPath.ofInstance(output)))
+            .getType());
+    assertTrue(filesystem.exists(cache.getKeyPath(RULE_KEY_A)));
+  }
+
+  @Test
+  public void evictionRemovesLeastRecentlyUsedKeysAndUnreferencedArtifacts() throws IOException {
+    cache = newCache(Optional.empty());
+    String[] contents = new String[3];
+    RuleKey[] ruleKeys = {RULE_KEY_A, RULE_KEY_B, RULE_KEY_C};
+    for (int i = 0; i < 3; i++) {
+      contents[i] = new String(new char[1000]).replace('\0', (char) ('a' + i));
+      cache.store(
+          ArtifactInfo.builder().addRuleKeys(ruleKeys[i]).build(),
+          BorrowablePath.notBorrowablePath(writeArtifact("artifact" + i, contents[i])));
+      filesystem.setLastModifiedTime(
+          cache.getKeyPath(ruleKeys[i]), FileTime.fromMillis(1000L * (i + 1)));
+    }
+
+    cache.close();
+    cache = newCache(Optional.of(2500L));
+    cache.evictOldEntries();
+
+    assertFalse(filesystem.exists(cache.getKeyPath(RULE_KEY_A)));
+    assertFalse(Files.exists(contentPath(contents[0])));
+    assertFalse(filesystem.exists(cache.getKeyPath(RULE_KEY_B)));
+    assertFalse(Files.exists(contentPath(contents[1])));
+    assertTrue(filesystem.exists(cache.getKeyPath(RULE_KEY_C)));
+    assertTrue(Files.exists(contentPath(contents[2])));
+  }
+
+  @Test
+  public void closeEvictsOldEntriesBeforeReturning() throws IOException {
+    cache = newCache(Optional.empty());
+    String[] contents = new String[3];
+    RuleKey[] ruleKeys = {RULE_KEY_A, RULE_KEY_B, RULE_KEY_C};
+    for (int i = 0; i < 3; i++) {
+      contents[i] = new String(new char[1000]).replace('\0', (char) ('a' + i));
+      cache.store(
+          ArtifactInfo.builder().addRuleKeys(ruleKeys[i]).build(),
+          BorrowablePath.notBorrowablePath(writeArtifact("artifact" + i, contents[i])));
+      filesystem.setLastModifiedTime(
+          cache.getKeyPath(ruleKeys[i]), FileTime.fromMillis(1000L * (i + 1)));
+    }
+    cache.close();
+
+    // Too small a store to trigger an eviction on its own, so only closing the cache evicts.
+    cache = newCache(Optional.of(2500L));
+    cache.store(
+        ArtifactInfo.builder()
+            .addRuleKeys(new RuleKey("dddddddddddddddddddddddddddddddddddddddd"))
+            .build(),
+        BorrowablePath.notBorrowablePath(writeArtifact("small", "small")));
+    cache.close();
+
+    assertFalse(filesystem.exists(cache.getKeyPath(RULE_KEY_A)));
+    assertFalse(filesystem.exists(cache.getKeyPath(RULE_KEY_B)));
+    assertTrue(filesystem.exists(cache.getKeyPath(RULE_KEY_C)));
+    assertTrue(Files.exists(contentPath(contents[2])));
+  }
+
+  private ContentAddressedDirArtifactCache newCache(Optional<Long> maxCacheSizeBytes)
+      throws IOException {
+    return new ContentAddressedDirArtifactCache(
+        "dir", filesystem, Paths.get("cache"), CacheReadMode.READWRITE, maxCacheSizeBytes);
+  }
+
+  private Path writeArtifact(String name, String contents) throws IOException {
+    Path artifact = tmpDir.getRoot().resolve(name);
+    Files.write(artifact, contents.getBytes(UTF_8));
+    return artifact;
+  }
+
+  private Path contentPath(String contents) {
+    String hash = Hashing.sha1().hashString(contents, UTF_8).toString();
+    return filesystem.resolve(cache.getContentPath(hash));
+  }
+}
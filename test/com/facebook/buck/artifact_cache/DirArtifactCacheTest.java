@@ -170,6 +170,46 @@ public class DirArtifactCacheTest {
     assertEquals(inputRuleX, new BuildRuleForTest(fileX));
   }
 
+  @Test
+  public void testCacheContainsDoesNotFetch() throws InterruptedException, IOException {
+    Path cacheDir = tmpDir.newFolder();
+    Path fileX = tmpDir.newFile("x");
+
+    dirArtifactCache =
+        new DirArtifactCache(
+            "dir",
+            TestProjectFilesystems.createProjectFilesystem(cacheDir),
+            Paths.get("."),
+            CacheReadMode.READWRITE,
+            /* maxCacheSizeBytes */ Optional.empty());
+
+    Files.write(fileX, "x".getBytes(UTF_8));
+    RuleKey storedRuleKey = new RuleKey("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+    RuleKey missingRuleKey = new RuleKey("bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb");
+    dirArtifactCache.store(
+        ArtifactInfo.builder().addRuleKeys(storedRuleKey).build(),
+        BorrowablePath.notBorrowablePath(fileX));
+    Files.delete(fileX);
+
+    ImmutableMap<RuleKey, CacheResult> results =
+        Futures.getUnchecked(
+            dirArtifactCache.containsAsync(ImmutableSet.of(storedRuleKey, missingRuleKey)));
+    assertEquals(CacheResultType.CONTAINS, results.get(storedRuleKey).getType());
+    assertEquals("dir", results.get(storedRuleKey).getCacheSource());
+    assertEquals(CacheResultType.MISS, results.get(missingRuleKey).getType());
+    assertFalse(Files.exists(fileX));
+
+    // A key is only present if both the artifact and its metadata are.
+    Files.delete(
+        cacheDir.resolve(
+            dirArtifactCache.getPathForRuleKey(storedRuleKey, Optional.of(".metadata"))));
+    assertEquals(
+        CacheResultType.MISS,
+        Futures.getUnchecked(dirArtifactCache.containsAsync(ImmutableSet.of(storedRuleKey)))
+            .get(storedRuleKey)
+            .getType());
+  }
+
   @Test
   public void testCacheStoreOverwrite() throws InterruptedException, IOException {
     Path cacheDir = tmpDir.newFolder();
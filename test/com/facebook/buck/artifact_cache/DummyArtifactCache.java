@@ -19,6 +19,9 @@ package com.facebook.buck.artifact_cache;
 import com.facebook.buck.io.file.BorrowablePath;
 import com.facebook.buck.io.file.LazyPath;
 import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.util.MoreCollectors;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -40,6 +43,21 @@ public class DummyArtifactCache extends NoopArtifactCache {
             : CacheResult.miss());
   }
 
+  @Override
+  public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+      ImmutableSet<RuleKey> ruleKeys) {
+    return Futures.immediateFuture(
+        ruleKeys
+            .stream()
+            .collect(
+                MoreCollectors.toImmutableMap(
+                    ruleKey -> ruleKey,
+                    ruleKey ->
+                        ruleKey.equals(storeKey)
+                            ? CacheResult.contains("cache", ArtifactCacheMode.http)
+                            : CacheResult.miss())));
+  }
+
   @Override
   public ListenableFuture<Void> store(ArtifactInfo info, BorrowablePath output) {
     storeKey = Iterables.getFirst(info.getRuleKeys(), null);
@@ -23,6 +23,7 @@ import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import com.google.common.io.BaseEncoding;
 import com.google.common.io.ByteSource;
 import com.google.common.io.ByteStreams;
@@ -32,6 +33,8 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
 import org.junit.Test;
@@ -55,6 +58,36 @@ public class HttpArtifactCacheBinaryProtocolTest {
     assertThat(metadata, Matchers.equalTo(BaseEncoding.base64().decode(base64EncodedData)));
   }
 
+  @Test
+  public void testCreateMetadataHeaderFromPayloadChecksum() throws IOException {
+    RuleKey ruleKey = new RuleKey("00000000010000000000008000000000");
+    byte[] data = new byte[100000];
+    new Random(0).nextBytes(data);
+    ImmutableMap<String, String> metadata = ImmutableMap.of("key", "value");
+    assertThat(
+        HttpArtifactCacheBinaryProtocol.createMetadataHeader(
+            ImmutableSet.of(ruleKey),
+            metadata,
+            data.length,
+            HttpArtifactCacheBinaryProtocol.checksumPayload(ByteBuffer.wrap(data))),
+        Matchers.equalTo(
+            HttpArtifactCacheBinaryProtocol.createMetadataHeader(
+                ImmutableSet.of(ruleKey), metadata, ByteSource.wrap(data))));
+  }
+
+  @Test
+  public void testCombineCrc32() {
+    byte[] data = "some bytes followed by some more bytes".getBytes(Charsets.UTF_8);
+    for (int split : new int[] {0, 1, 10, data.length}) {
+      HashCode first = Hashing.crc32().hashBytes(data, 0, split);
+      HashCode second = Hashing.crc32().hashBytes(data, split, data.length - split);
+      assertThat(
+          HttpArtifactCacheBinaryProtocol.combineCrc32(
+              first.asInt(), second.asInt(), data.length - split),
+          Matchers.equalTo(Hashing.crc32().hashBytes(data).asInt()));
+    }
+  }
+
   @Test
   public void testCreateKeysHeader() throws IOException {
     final String base64EncodedData =
@@ -37,6 +37,7 @@ import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.ByteSource;
+import com.google.common.io.ByteStreams;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
@@ -45,6 +46,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -266,6 +268,79 @@ public class HttpArtifactCacheTest {
     cache.close();
   }
 
+  @Test
+  public void testFetchStreaming() throws Exception {
+    final String data = "test";
+    final RuleKey ruleKey = new RuleKey("00000000000000000000000000000000");
+    argsBuilder.setFetchClient(
+        withMakeRequest(
+            (path, requestBuilder) -> {
+              Request request = requestBuilder.url(SERVER + path).build();
+              return new OkHttpResponseWrapper(
+                  new Response.Builder()
+                      .request(request)
+                      .protocol(Protocol.HTTP_1_1)
+                      .code(HttpURLConnection.HTTP_OK)
+                      .body(
+                          createResponseBody(
+                              ImmutableSet.of(ruleKey),
+                              ImmutableMap.of("key", "value"),
+                              ByteSource.wrap(data.getBytes(Charsets.UTF_8)),
+                              data))
+                      .build());
+            }));
+    HttpArtifactCache cache = new HttpArtifactCache(argsBuilder.build());
+    RecordingPayloadConsumer consumer = new RecordingPayloadConsumer();
+    CacheResult result =
+        Futures.getUnchecked(
+            cache.fetchStreamingAsync(
+                ruleKey,
+                new LazyPath() {
+                  @Override
+                  protected Path create() throws IOException {
+                    throw new AssertionError("the payload should not be spooled to a file");
+                  }
+                },
+                consumer));
+    assertEquals(result.cacheError().orElse(""), CacheResultType.HIT, result.getType());
+    assertEquals(ImmutableMap.of("key", "value"), consumer.metadata);
+    assertEquals(data, consumer.payload);
+    assertEquals(0, consumer.discarded);
+    cache.close();
+  }
+
+  @Test
+  public void testFetchStreamingBadChecksumDiscardsPayload() throws Exception {
+    final RuleKey ruleKey = new RuleKey("00000000000000000000000000000000");
+    argsBuilder.setFetchClient(
+        withMakeRequest(
+            (path, requestBuilder) -> {
+              Request request = requestBuilder.url(SERVER + path).build();
+              return new OkHttpResponseWrapper(
+                  new Response.Builder()
+                      .request(request)
+                      .protocol(Protocol.HTTP_1_1)
+                      .code(HttpURLConnection.HTTP_OK)
+                      .body(
+                          createResponseBody(
+                              ImmutableSet.of(ruleKey),
+                              ImmutableMap.of(),
+                              ByteSource.wrap(new byte[0]),
+                              "data"))
+                      .build());
+            }));
+    HttpArtifactCache cache = new HttpArtifactCache(argsBuilder.build());
+    RecordingPayloadConsumer consumer = new RecordingPayloadConsumer();
+    CacheResult result =
+        Futures.getUnchecked(
+            cache.fetchStreamingAsync(
+                ruleKey, LazyPath.ofInstance(Paths.get("output/file")), consumer));
+    assertEquals(CacheResultType.ERROR, result.getType());
+    assertEquals("data", consumer.payload);
+    assertEquals(1, consumer.discarded);
+    cache.close();
+  }
+
   @Test
   public void testFetchExtraPayload() throws Exception {
     FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
@@ -544,6 +619,24 @@ public class HttpArtifactCacheTest {
     cache.close();
   }
 
+  private static class RecordingPayloadConsumer implements ArtifactPayloadConsumer {
+    private ImmutableMap<String, String> metadata = ImmutableMap.of();
+    private String payload = "";
+    private int discarded = 0;
+
+    @Override
+    public void consume(ImmutableMap<String, String> metadata, InputStream payload)
+        throws IOException {
+      this.metadata = metadata;
+      this.payload = new String(ByteStreams.toByteArray(payload), Charsets.UTF_8);
+    }
+
+    @Override
+    public void discard() {
+      discarded++;
+    }
+  }
+
   private static ResponseBody createDummyBody() {
     return ResponseBody.create(MediaType.parse("text/plain"), "SUCCESS");
   }
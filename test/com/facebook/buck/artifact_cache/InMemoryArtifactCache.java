@@ -20,6 +20,7 @@ import com.facebook.buck.io.file.BorrowablePath;
 import com.facebook.buck.io.file.LazyPath;
 import com.facebook.buck.rules.RuleKey;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import com.google.common.io.ByteStreams;
 import com.google.common.util.concurrent.Futures;
@@ -64,6 +65,23 @@ public class InMemoryArtifactCache implements ArtifactCache {
         "in-memory", ArtifactCacheMode.dir, artifact.metadata, artifact.data.length);
   }
 
+  @Override
+  public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+      ImmutableSet<RuleKey> ruleKeys) {
+    return service.submit(
+        () -> {
+          ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+          for (RuleKey ruleKey : ruleKeys) {
+            results.put(
+                ruleKey,
+                artifacts.containsKey(ruleKey)
+                    ? CacheResult.contains("in-memory", ArtifactCacheMode.dir)
+                    : CacheResult.miss());
+          }
+          return results.build();
+        });
+  }
+
   public void store(ArtifactInfo info, byte[] data) {
     Artifact artifact = new Artifact();
     artifact.metadata = info.getMetadata();
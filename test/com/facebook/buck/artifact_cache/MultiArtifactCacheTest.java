@@ -28,12 +28,15 @@ import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.testutil.integration.TemporaryPaths;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
@@ -91,6 +94,72 @@ public class MultiArtifactCacheTest {
     multiArtifactCache.close();
   }
 
+  @Test
+  public void testCacheContainsOnlyChecksMissingKeysInLaterCaches() throws Exception {
+    RuleKey otherRuleKey = new RuleKey("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+    RuleKey missingRuleKey = new RuleKey("bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb");
+    DummyArtifactCache dummyArtifactCache1 = new DummyArtifactCache();
+    List<ImmutableSet<RuleKey>> secondCacheRequests = new ArrayList<>();
+    DummyArtifactCache dummyArtifactCache2 =
+        new DummyArtifactCache() {
+          @Override
+          public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+              ImmutableSet<RuleKey> ruleKeys) {
+            secondCacheRequests.add(ruleKeys);
+            return super.containsAsync(ruleKeys);
+          }
+        };
+    MultiArtifactCache multiArtifactCache =
+        new MultiArtifactCache(ImmutableList.of(dummyArtifactCache1, dummyArtifactCache2));
+
+    dummyArtifactCache1.store(
+        ArtifactInfo.builder().addRuleKeys(dummyRuleKey).build(),
+        BorrowablePath.notBorrowablePath(dummyFile.get()));
+    dummyArtifactCache2.store(
+        ArtifactInfo.builder().addRuleKeys(otherRuleKey).build(),
+        BorrowablePath.notBorrowablePath(dummyFile.get()));
+
+    ImmutableMap<RuleKey, CacheResult> results =
+        multiArtifactCache
+            .containsAsync(ImmutableSet.of(dummyRuleKey, otherRuleKey, missingRuleKey))
+            .get();
+
+    assertEquals(CacheResultType.CONTAINS, results.get(dummyRuleKey).getType());
+    assertEquals(CacheResultType.CONTAINS, results.get(otherRuleKey).getType());
+    assertEquals(CacheResultType.MISS, results.get(missingRuleKey).getType());
+    assertEquals(
+        "Keys found in the first cache should not be checked in the second one",
+        ImmutableList.of(ImmutableSet.of(otherRuleKey, missingRuleKey)),
+        secondCacheRequests);
+
+    multiArtifactCache.close();
+  }
+
+  @Test
+  public void testCacheContainsKeepsKeysSkippedByEarlierCaches() throws Exception {
+    DummyArtifactCache skippingArtifactCache =
+        new DummyArtifactCache() {
+          @Override
+          public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+              ImmutableSet<RuleKey> ruleKeys) {
+            return Futures.immediateFuture(
+                ImmutableMap.of(dummyRuleKey, CacheResult.skipped()));
+          }
+        };
+    MultiArtifactCache multiArtifactCache =
+        new MultiArtifactCache(ImmutableList.of(skippingArtifactCache, new DummyArtifactCache()));
+
+    assertEquals(
+        CacheResultType.SKIPPED,
+        multiArtifactCache
+            .containsAsync(ImmutableSet.of(dummyRuleKey))
+            .get()
+            .get(dummyRuleKey)
+            .getType());
+
+    multiArtifactCache.close();
+  }
+
   @Test
   public void testPropagateOnlyCacheStore()
       throws InterruptedException, IOException, ExecutionException {
@@ -206,6 +275,20 @@ public class MultiArtifactCacheTest {
       }
     }
 
+    @Override
+    public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+        ImmutableSet<RuleKey> ruleKeys) {
+      ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+      for (RuleKey ruleKey : ruleKeys) {
+        results.put(
+            ruleKey,
+            ruleKey.equals(storedKey.get())
+                ? CacheResult.contains("cache", ArtifactCacheMode.http)
+                : CacheResult.miss());
+      }
+      return Futures.immediateFuture(results.build());
+    }
+
     @Override
     public ListenableFuture<Void> store(ArtifactInfo info, BorrowablePath output) {
       if (output.canBorrow()) {
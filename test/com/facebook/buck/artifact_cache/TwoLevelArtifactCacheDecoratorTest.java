@@ -23,13 +23,22 @@ import static org.junit.Assert.assertThat;
 import com.facebook.buck.event.BuckEventBusForTests;
 import com.facebook.buck.io.file.BorrowablePath;
 import com.facebook.buck.io.file.LazyPath;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.TestProjectFilesystems;
 import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.facebook.buck.util.zip.Unzip;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.Futures;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
@@ -79,6 +88,31 @@ public class TwoLevelArtifactCacheDecoratorTest {
     }
   }
 
+  @Test
+  public void containsOnlyReportsMisses() throws InterruptedException, IOException {
+    try (InMemoryArtifactCache inMemoryArtifactCache = new InMemoryArtifactCache();
+        TwoLevelArtifactCacheDecorator twoLevelCache =
+            new TwoLevelArtifactCacheDecorator(
+                inMemoryArtifactCache,
+                TestProjectFilesystems.createProjectFilesystem(tmp.getRoot()),
+                BuckEventBusForTests.newInstance(),
+                /* performTwoLevelStores */ true,
+                /* minimumTwoLevelStoredArtifactSize */ 0L,
+                /* maximumTwoLevelStoredArtifactSize */ Optional.empty())) {
+      LazyPath dummyFile = LazyPath.ofInstance(tmp.newFile());
+      twoLevelCache.store(
+          ArtifactInfo.builder().addRuleKeys(dummyRuleKey).build(),
+          BorrowablePath.notBorrowablePath(dummyFile.get()));
+
+      // The first-level entry is there, but that doesn't tell whether the second level still is.
+      ImmutableMap<RuleKey, CacheResult> results =
+          Futures.getUnchecked(
+              twoLevelCache.containsAsync(ImmutableSet.of(dummyRuleKey, dummyRuleKey2)));
+      assertEquals(CacheResultType.SKIPPED, results.get(dummyRuleKey).getType());
+      assertEquals(CacheResultType.MISS, results.get(dummyRuleKey2).getType());
+    }
+  }
+
   private void testStoreThresholds(int artifactSize, int expectedArtifactsInCache)
       throws InterruptedException, IOException {
     try (InMemoryArtifactCache inMemoryArtifactCache = new InMemoryArtifactCache();
@@ -187,4 +221,64 @@ public class TwoLevelArtifactCacheDecoratorTest {
           Matchers.equalTo(CacheResultType.HIT));
     }
   }
+
+  @Test
+  public void streamingFetchOfBlockArchivePassesFirstLevelMetadata()
+      throws InterruptedException, IOException {
+    ProjectFilesystem source = TestProjectFilesystems.createProjectFilesystem(tmp.newFolder());
+    source.mkdirs(source.getPath("dir"));
+    source.writeContentsToPath("contents", source.getPath("dir/file.txt"));
+    Path archive = tmp.getRoot().resolve("artifact.bcka");
+    ArtifactContainerFormat.BLOCK_DEFLATE.create(
+        source, ImmutableList.of(source.getPath("dir"), source.getPath("dir/file.txt")), archive);
+
+    try (InMemoryArtifactCache inMemoryArtifactCache = new InMemoryArtifactCache();
+        TwoLevelArtifactCacheDecorator twoLevelCache =
+            new TwoLevelArtifactCacheDecorator(
+                inMemoryArtifactCache,
+                TestProjectFilesystems.createProjectFilesystem(tmp.getRoot()),
+                BuckEventBusForTests.newInstance(),
+                /* performTwoLevelStores */ true,
+                /* minimumTwoLevelStoredArtifactSize */ 0L,
+                /* maximumTwoLevelStoredArtifactSize */ Optional.empty())) {
+      ImmutableMap<String, String> metadata =
+          ImmutableMap.of(
+              ArtifactContainerFormat.METADATA_KEY,
+              ArtifactContainerFormat.BLOCK_DEFLATE.name(),
+              "testMetaKey",
+              "value");
+      twoLevelCache.store(
+          ArtifactInfo.builder().addRuleKeys(dummyRuleKey).setMetadata(metadata).build(),
+          BorrowablePath.notBorrowablePath(archive));
+      assertThat(inMemoryArtifactCache.getArtifactCount(), Matchers.equalTo(2));
+
+      ProjectFilesystem destination =
+          TestProjectFilesystems.createProjectFilesystem(tmp.newFolder());
+      List<ImmutableMap<String, String>> consumedMetadata = new ArrayList<>();
+      CacheResult result =
+          Futures.getUnchecked(
+              twoLevelCache.fetchStreamingAsync(
+                  dummyRuleKey,
+                  LazyPath.ofInstance(tmp.getRoot().resolve("spool")),
+                  new ArtifactPayloadConsumer() {
+                    @Override
+                    public void consume(
+                        ImmutableMap<String, String> metadata, InputStream payload)
+                        throws IOException {
+                      consumedMetadata.add(metadata);
+                      ArtifactContainerFormat.fromMetadata(metadata)
+                          .extract(payload, destination, Unzip.ExistingFileMode.OVERWRITE);
+                    }
+
+                    @Override
+                    public void discard() {}
+                  }));
+
+      assertEquals(CacheResultType.HIT, result.getType());
+      assertEquals(1, consumedMetadata.size());
+      assertEquals("value", consumedMetadata.get(0).get("testMetaKey"));
+      assertEquals(
+          Optional.of("contents"), destination.readFileIfItExists(Paths.get("dir/file.txt")));
+    }
+  }
 }
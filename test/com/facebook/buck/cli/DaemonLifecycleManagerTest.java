@@ -16,10 +16,12 @@
 
 package com.facebook.buck.cli;
 
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assume.assumeThat;
 import static org.junit.Assume.assumeTrue;
 
@@ -29,9 +31,11 @@ import com.facebook.buck.apple.AppleNativeIntegrationTestUtils;
 import com.facebook.buck.apple.toolchain.ApplePlatform;
 import com.facebook.buck.config.BuckConfig;
 import com.facebook.buck.config.FakeBuckConfig;
+import com.facebook.buck.event.FileHashCacheEvent;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.TestProjectFilesystems;
 import com.facebook.buck.plugin.BuckPluginManagerFactory;
+import com.facebook.buck.rules.Cell;
 import com.facebook.buck.rules.KnownBuildRuleTypesFactory;
 import com.facebook.buck.rules.SdkEnvironment;
 import com.facebook.buck.rules.TestCellBuilder;
@@ -42,15 +46,19 @@ import com.facebook.buck.util.DefaultProcessExecutor;
 import com.facebook.buck.util.FakeProcess;
 import com.facebook.buck.util.FakeProcessExecutor;
 import com.facebook.buck.util.ProcessExecutorParams;
+import com.facebook.buck.util.cache.impl.WatchedFileHashCache;
 import com.facebook.buck.util.environment.Platform;
 import com.google.common.base.Supplier;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.HashCode;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -111,6 +119,42 @@ public class DaemonLifecycleManagerTest {
                 .build()));
   }
 
+  @Test
+  public void fileHashesPersistedAfterACommandSurviveAKilledDaemon()
+      throws IOException, InterruptedException {
+    Path path = Paths.get("SomeClass.java");
+    filesystem.writeContentsToPath("class SomeClass {}", path);
+    Cell cell =
+        new TestCellBuilder()
+            .setBuckConfig(
+                FakeBuckConfig.builder()
+                    .setSections(
+                        ImmutableMap.of(
+                            "build",
+                            ImmutableMap.of("file_hash_cache_mode", "persistent_prefix_tree")))
+                    .build())
+            .setFilesystem(filesystem)
+            .build();
+
+    Daemon daemon = daemonLifecycleManager.getDaemon(cell);
+    HashCode hashCode = daemon.getFileHashCaches().get(0).get(path);
+    // What Main does once a command finishes. The daemon is then killed without being closed.
+    daemon.persistFileHashCaches();
+
+    Daemon restartedDaemon = new DaemonLifecycleManager().getDaemon(cell);
+    WatchedFileHashCache restartedCache =
+        (WatchedFileHashCache) restartedDaemon.getFileHashCaches().get(0);
+    assertEquals(hashCode, restartedCache.get(path));
+    assertThat(
+        restartedCache
+            .getStatsEvents()
+            .stream()
+            .filter(FileHashCacheEvent.class::isInstance)
+            .map(event -> ((FileHashCacheEvent) event).getCategory())
+            .collect(Collectors.toList()),
+        hasItem("file_hash_cache_invalidation.persistent.reused"));
+  }
+
   @Test
   public void whenAndroidNdkVersionChangesParserInvalidated()
       throws IOException, InterruptedException {
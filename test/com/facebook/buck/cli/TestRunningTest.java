@@ -26,7 +26,12 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactContainerFormat;
 import com.facebook.buck.artifact_cache.CacheResult;
+import com.facebook.buck.artifact_cache.InMemoryArtifactCache;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
 import com.facebook.buck.jvm.java.DefaultJavaPackageFinder;
 import com.facebook.buck.jvm.java.JavaLibrary;
 import com.facebook.buck.jvm.java.JavaLibraryBuilder;
@@ -41,20 +46,26 @@ import com.facebook.buck.rules.DefaultSourcePathResolver;
 import com.facebook.buck.rules.DefaultTargetNodeToBuildRuleTransformer;
 import com.facebook.buck.rules.FakeBuildContext;
 import com.facebook.buck.rules.FakeBuildEngine;
+import com.facebook.buck.rules.FakeBuildRule;
 import com.facebook.buck.rules.FakeTestRule;
+import com.facebook.buck.rules.HasRuntimeDeps;
 import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.rules.SingleThreadedBuildRuleResolver;
 import com.facebook.buck.rules.SourcePathResolver;
 import com.facebook.buck.rules.SourcePathRuleFinder;
 import com.facebook.buck.rules.TargetGraph;
 import com.facebook.buck.rules.TargetNode;
+import com.facebook.buck.rules.TestRule;
 import com.facebook.buck.rules.TestBuildRuleParams;
 import com.facebook.buck.shell.GenruleBuilder;
 import com.facebook.buck.shell.GenruleDescription;
 import com.facebook.buck.shell.GenruleDescriptionArg;
+import com.facebook.buck.step.AbstractExecutionStep;
 import com.facebook.buck.step.DefaultStepRunner;
 import com.facebook.buck.step.ExecutionContext;
 import com.facebook.buck.step.ExecutionOrderAwareFakeStep;
+import com.facebook.buck.step.Step;
+import com.facebook.buck.step.StepExecutionResult;
 import com.facebook.buck.step.TestExecutionContext;
 import com.facebook.buck.test.FakeTestResults;
 import com.facebook.buck.test.TestCaseSummary;
@@ -64,6 +75,7 @@ import com.facebook.buck.test.TestRunningOptions;
 import com.facebook.buck.test.result.type.ResultType;
 import com.facebook.buck.testutil.FakeProjectFilesystem;
 import com.facebook.buck.testutil.TargetGraphFactory;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -72,6 +84,7 @@ import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.StringWriter;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -79,10 +92,12 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import org.hamcrest.Matchers;
 import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -97,6 +112,8 @@ public class TestRunningTest {
   private static final TestRunningOptions DEFAULT_OPTIONS = TestRunningOptions.builder().build();
   private static final Logger LOG = Logger.get(TestRunningTest.class);
 
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
   @BeforeClass
   public static void setUp() {
     pathsFromRoot = ImmutableSortedSet.of("java/");
@@ -807,4 +824,214 @@ public class TestRunningTest {
 
     assertThat(ret, equalTo(TestRunning.TEST_FAILURES_EXIT_CODE));
   }
+
+  @Test
+  public void passingResultsAreReplayedFromTheCache() throws Exception {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    Path outputDir = Paths.get("test-output");
+    Path resultsFile = outputDir.resolve("results.txt");
+    AtomicInteger runs = new AtomicInteger(0);
+    Step writeResults =
+        new AbstractExecutionStep("write-results") {
+          @Override
+          public StepExecutionResult execute(ExecutionContext context) throws IOException {
+            runs.incrementAndGet();
+            filesystem.mkdirs(outputDir);
+            filesystem.writeContentsToPath("passed", resultsFile);
+            return StepExecutionResult.SUCCESS;
+          }
+        };
+    TestResults passingResults =
+        FakeTestResults.of(
+            ImmutableList.of(
+                new TestCaseSummary(
+                    "TestCase",
+                    ImmutableList.of(
+                        new TestResultSummary(
+                            "TestCaseResult",
+                            "passTest",
+                            ResultType.SUCCESS,
+                            5000,
+                            null,
+                            null,
+                            null,
+                            null)))));
+    BuildTarget target = BuildTargetFactory.newInstance("//:test");
+    FakeTestRule test =
+        new FakeTestRule(
+            target,
+            filesystem,
+            TestBuildRuleParams.create(),
+            ImmutableSet.of(),
+            Optional.of(outputDir),
+            false, // runTestSeparately
+            ImmutableList.of(writeResults),
+            () -> {
+              assertEquals(Optional.of("passed"), filesystem.readFileIfItExists(resultsFile));
+              return passingResults;
+            }) {
+          @Override
+          public boolean supportsCachingTestResults() {
+            return true;
+          }
+        };
+    FakeBuildEngine fakeBuildEngine =
+        new FakeBuildEngine(
+            ImmutableMap.of(target, BuildResult.success(test, BUILT_LOCALLY, CacheResult.miss())),
+            ImmutableMap.of(target, new RuleKey("00")));
+    InMemoryArtifactCache artifactCache = new InMemoryArtifactCache();
+
+    assertThat(runTestsWithCache(test, fakeBuildEngine, artifactCache, true), equalTo(0));
+    assertEquals(1, runs.get());
+    assertEquals(1, artifactCache.getArtifactCount());
+
+    // The cached output directory replaces the local one, and the test isn't run again.
+    filesystem.deleteRecursivelyIfExists(outputDir);
+    assertThat(runTestsWithCache(test, fakeBuildEngine, artifactCache, true), equalTo(0));
+    assertEquals(1, runs.get());
+
+    assertThat(runTestsWithCache(test, fakeBuildEngine, artifactCache, false), equalTo(0));
+    assertEquals(2, runs.get());
+  }
+
+  @Test
+  public void changingARuntimeDepRunsTheTestAgain() throws Exception {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    Path outputDir = Paths.get("test-output");
+    AtomicInteger runs = new AtomicInteger(0);
+    Step writeResults =
+        new AbstractExecutionStep("write-results") {
+          @Override
+          public StepExecutionResult execute(ExecutionContext context) throws IOException {
+            runs.incrementAndGet();
+            filesystem.mkdirs(outputDir);
+            filesystem.writeContentsToPath("passed", outputDir.resolve("results.txt"));
+            return StepExecutionResult.SUCCESS;
+          }
+        };
+    BuildRuleResolver resolver =
+        new SingleThreadedBuildRuleResolver(
+            TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer());
+    BuildTarget runtimeDepTarget = BuildTargetFactory.newInstance("//:runtime_dep");
+    resolver.addToIndex(new FakeBuildRule(runtimeDepTarget));
+    BuildTarget target = BuildTargetFactory.newInstance("//:test");
+    TestRuleWithRuntimeDeps test =
+        new TestRuleWithRuntimeDeps(
+            target,
+            filesystem,
+            outputDir,
+            writeResults,
+            FakeTestResults.of(
+                ImmutableList.of(
+                    new TestCaseSummary(
+                        "TestCase",
+                        ImmutableList.of(
+                            new TestResultSummary(
+                                "TestCaseResult",
+                                "passTest",
+                                ResultType.SUCCESS,
+                                5000,
+                                null,
+                                null,
+                                null,
+                                null))))),
+            ImmutableSet.of(runtimeDepTarget));
+    resolver.addToIndex(test);
+    InMemoryArtifactCache artifactCache = new InMemoryArtifactCache();
+
+    FakeBuildEngine buildEngine =
+        new FakeBuildEngine(
+            ImmutableMap.of(target, BuildResult.success(test, BUILT_LOCALLY, CacheResult.miss())),
+            ImmutableMap.of(target, new RuleKey("00"), runtimeDepTarget, new RuleKey("01")));
+    assertThat(runTestsWithCache(test, buildEngine, resolver, artifactCache, true), equalTo(0));
+    assertThat(runTestsWithCache(test, buildEngine, resolver, artifactCache, true), equalTo(0));
+    assertEquals(1, runs.get());
+
+    // The rule key of the test stays the same, only the one of its runtime dep changes.
+    FakeBuildEngine buildEngineWithChangedRuntimeDep =
+        new FakeBuildEngine(
+            ImmutableMap.of(target, BuildResult.success(test, BUILT_LOCALLY, CacheResult.miss())),
+            ImmutableMap.of(target, new RuleKey("00"), runtimeDepTarget, new RuleKey("02")));
+    assertThat(
+        runTestsWithCache(test, buildEngineWithChangedRuntimeDep, resolver, artifactCache, true),
+        equalTo(0));
+    assertEquals(2, runs.get());
+  }
+
+  private static class TestRuleWithRuntimeDeps extends FakeTestRule implements HasRuntimeDeps {
+
+    private final ImmutableSet<BuildTarget> runtimeDeps;
+
+    TestRuleWithRuntimeDeps(
+        BuildTarget target,
+        ProjectFilesystem filesystem,
+        Path outputDir,
+        Step testStep,
+        TestResults results,
+        ImmutableSet<BuildTarget> runtimeDeps) {
+      super(
+          target,
+          filesystem,
+          TestBuildRuleParams.create(),
+          ImmutableSet.of(),
+          Optional.of(outputDir),
+          false, // runTestSeparately
+          ImmutableList.of(testStep),
+          () -> results);
+      this.runtimeDeps = runtimeDeps;
+    }
+
+    @Override
+    public boolean supportsCachingTestResults() {
+      return true;
+    }
+
+    @Override
+    public Stream<BuildTarget> getRuntimeDeps(SourcePathRuleFinder ruleFinder) {
+      return runtimeDeps.stream();
+    }
+  }
+
+  private int runTestsWithCache(
+      TestRule test,
+      FakeBuildEngine buildEngine,
+      ArtifactCache artifactCache,
+      boolean replayEnabled)
+      throws Exception {
+    return runTestsWithCache(
+        test,
+        buildEngine,
+        new SingleThreadedBuildRuleResolver(
+            TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer()),
+        artifactCache,
+        replayEnabled);
+  }
+
+  private int runTestsWithCache(
+      TestRule test,
+      FakeBuildEngine buildEngine,
+      BuildRuleResolver resolver,
+      ArtifactCache artifactCache,
+      boolean replayEnabled)
+      throws Exception {
+    CommandRunnerParams commandRunnerParams = CommandRunnerParamsForTesting.builder().build();
+    SourcePathRuleFinder ruleFinder = new SourcePathRuleFinder(resolver);
+    return TestRunning.runTests(
+        commandRunnerParams,
+        ImmutableList.of(test),
+        TestExecutionContext.newInstance(),
+        DEFAULT_OPTIONS,
+        MoreExecutors.newDirectExecutorService(),
+        buildEngine,
+        new DefaultStepRunner(),
+        FakeBuildContext.withSourcePathResolver(DefaultSourcePathResolver.from(ruleFinder)),
+        ruleFinder,
+        Optional.of(
+            new TestResultsCache(
+                artifactCache,
+                resolver,
+                ArtifactContainerFormat.ZIP,
+                commandRunnerParams.getBuckEventBus(),
+                replayEnabled)));
+  }
 }
@@ -23,6 +23,7 @@ import com.facebook.buck.config.BuckConfig;
 import com.facebook.buck.config.BuckConfigTestUtils;
 import com.facebook.buck.testutil.integration.TemporaryPaths;
 import com.facebook.buck.util.concurrent.ResourceAmounts;
+import com.facebook.buck.util.concurrent.ResourceAmountsEstimator;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
@@ -52,6 +53,36 @@ public class ResourcesConfigTest {
         result);
   }
 
+  @Test
+  public void adaptiveResourceAmountsCapMemoryByThePhysicalMemory()
+      throws InterruptedException, IOException {
+    BuckConfig config =
+        BuckConfigTestUtils.createWithDefaultFilesystem(
+            temporaryFolder,
+            new StringReader(
+                Joiner.on('\n')
+                    .join(
+                        "[resources]",
+                        "resource_aware_scheduling_enabled = true",
+                        "adaptive_resource_amounts_enabled = true")));
+    assertEquals(
+        ResourceAmountsEstimator.getPhysicalMemoryCap(),
+        config.getView(ResourcesConfig.class).getMaximumResourceAmounts().getMemory());
+
+    BuckConfig configuredConfig =
+        BuckConfigTestUtils.createWithDefaultFilesystem(
+            temporaryFolder,
+            new StringReader(
+                Joiner.on('\n')
+                    .join(
+                        "[resources]",
+                        "resource_aware_scheduling_enabled = true",
+                        "adaptive_resource_amounts_enabled = true",
+                        "max_memory_resource = 7")));
+    assertEquals(
+        7, configuredConfig.getView(ResourcesConfig.class).getMaximumResourceAmounts().getMemory());
+  }
+
   @Test
   public void testInvalidResourceAmountsConfiguration() throws InterruptedException, IOException {
     Reader reader =
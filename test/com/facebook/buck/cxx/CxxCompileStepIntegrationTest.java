@@ -23,6 +23,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertThat;
 
+import com.facebook.buck.artifact_cache.CacheReadMode;
+import com.facebook.buck.artifact_cache.DirArtifactCache;
 import com.facebook.buck.config.FakeBuckConfig;
 import com.facebook.buck.cxx.toolchain.Compiler;
 import com.facebook.buck.cxx.toolchain.CxxBuckConfig;
@@ -46,12 +48,15 @@ import com.facebook.buck.testutil.integration.TemporaryPaths;
 import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
 import org.junit.Test;
@@ -103,6 +108,7 @@ public class CxxCompileStepIntegrationTest {
             scratchDir,
             true,
             compiler,
+            Optional.empty(),
             Optional.empty());
 
     // Execute the archive step and verify it ran successfully.
@@ -174,6 +180,7 @@ public class CxxCompileStepIntegrationTest {
             scratchDir,
             true,
             compiler,
+            Optional.empty(),
             Optional.empty());
 
     // Execute the archive step and verify it ran successfully.
@@ -190,4 +197,84 @@ public class CxxCompileStepIntegrationTest {
     Files.delete(input);
     Files.deleteIfExists(output);
   }
+
+  @Test
+  public void objectCacheSkipsCompilingUnchangedPreprocessedSources() throws Exception {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    Path cacheDir = tmp.newFolder("object-cache");
+    CxxObjectCache objectCache =
+        new CxxObjectCache(
+            new DirArtifactCache(
+                "cxx_objects", filesystem, cacheDir, CacheReadMode.READWRITE, Optional.empty()));
+    Path output = Paths.get("output.o");
+    Path depFile = Paths.get("output.dep");
+    filesystem.writeContentsToPath("int main() {}", Paths.get("input.c"));
+
+    // The first compilation stores the object in the cache.
+    ExecutionContext executionContext = TestExecutionContext.newInstance();
+    TestConsole console = (TestConsole) executionContext.getConsole();
+    int exitCode =
+        createObjectCacheStep(filesystem, objectCache, output, depFile, "-DFIRST")
+            .execute(executionContext)
+            .getExitCode();
+    assertEquals("compile step failed: " + console.getTextWrittenToStdErr(), 0, exitCode);
+    Path cachedObject;
+    try (Stream<Path> paths = Files.walk(cacheDir)) {
+      cachedObject =
+          Iterables.getOnlyElement(
+              paths
+                  .filter(Files::isRegularFile)
+                  .filter(path -> !path.toString().endsWith(".metadata"))
+                  .collect(Collectors.toList()));
+    }
+    Files.write(cachedObject, "cached object".getBytes(StandardCharsets.UTF_8));
+    filesystem.deleteFileAtPath(output);
+    filesystem.deleteFileAtPath(depFile);
+
+    // Only a preprocessor flag changed, so the object is fetched rather than compiled.
+    exitCode =
+        createObjectCacheStep(filesystem, objectCache, output, depFile, "-DSECOND")
+            .execute(executionContext)
+            .getExitCode();
+    assertEquals("compile step failed: " + console.getTextWrittenToStdErr(), 0, exitCode);
+    assertEquals("cached object", filesystem.readFileIfItExists(output).get());
+    assertThat(filesystem, pathExists(depFile));
+  }
+
+  private CxxPreprocessAndCompileStep createObjectCacheStep(
+      ProjectFilesystem filesystem,
+      CxxObjectCache objectCache,
+      Path output,
+      Path depFile,
+      String preprocessorFlag)
+      throws Exception {
+    CxxPlatform platform =
+        CxxPlatformUtils.build(new CxxBuckConfig(FakeBuckConfig.builder().build()));
+    BuildRuleResolver resolver =
+        new SingleThreadedBuildRuleResolver(
+            TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer());
+    SourcePathResolver pathResolver =
+        DefaultSourcePathResolver.from(new SourcePathRuleFinder(resolver));
+    Compiler compiler = platform.getCc().resolve(resolver);
+    Path scratchDir = filesystem.getPath("scratchDir");
+    filesystem.mkdirs(scratchDir);
+    return new CxxPreprocessAndCompileStep(
+        filesystem,
+        CxxPreprocessAndCompileStep.Operation.PREPROCESS_AND_COMPILE,
+        output,
+        Optional.of(depFile),
+        Paths.get("input.c"),
+        CxxSource.Type.C,
+        new CxxPreprocessAndCompileStep.ToolCommand(
+            compiler.getCommandPrefix(pathResolver),
+            ImmutableList.of("-g", preprocessorFlag),
+            ImmutableMap.of()),
+        HeaderPathNormalizer.empty(pathResolver),
+        CxxPlatformUtils.DEFAULT_COMPILER_DEBUG_PATH_SANITIZER,
+        scratchDir,
+        true,
+        compiler,
+        Optional.empty(),
+        Optional.of(objectCache));
+  }
 }
@@ -22,14 +22,24 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertThat;
 
+import com.facebook.buck.cxx.toolchain.CxxPlatform;
 import com.facebook.buck.cxx.toolchain.CxxPlatformUtils;
+import com.facebook.buck.cxx.toolchain.CxxToolProvider;
+import com.facebook.buck.cxx.toolchain.HeaderMode;
+import com.facebook.buck.cxx.toolchain.PreprocessorProvider;
 import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.BuildTargetFactory;
 import com.facebook.buck.rules.BuildRule;
 import com.facebook.buck.rules.BuildRuleParams;
+import com.facebook.buck.rules.BuildRuleResolver;
+import com.facebook.buck.rules.CommandTool;
+import com.facebook.buck.rules.ConstantToolProvider;
 import com.facebook.buck.rules.DefaultBuildTargetSourcePath;
+import com.facebook.buck.rules.DefaultTargetNodeToBuildRuleTransformer;
 import com.facebook.buck.rules.FakeBuildRule;
+import com.facebook.buck.rules.SingleThreadedBuildRuleResolver;
 import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.TargetGraph;
 import com.facebook.buck.rules.TestBuildRuleParams;
 import com.facebook.buck.testutil.FakeProjectFilesystem;
 import com.google.common.collect.ImmutableList;
@@ -237,4 +247,41 @@ public class CxxDescriptionEnhancerTest {
     return CxxDescriptionEnhancer.getNonDefaultSharedLibrarySoname(
         declared, extension, versionedFormat);
   }
+
+  @Test
+  public void vfsOverlayReplacesSymlinkTreesWhenEnabled() {
+    BuildRuleResolver resolver =
+        new SingleThreadedBuildRuleResolver(
+            TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer());
+    PreprocessorProvider clang =
+        new PreprocessorProvider(
+            new ConstantToolProvider(new CommandTool.Builder().build()),
+            CxxToolProvider.Type.CLANG);
+    CxxPlatform clangPlatform =
+        CxxPlatform.builder()
+            .from(CxxPlatformUtils.DEFAULT_PLATFORM)
+            .setCpp(clang)
+            .setCxxpp(clang)
+            .build();
+    CxxPlatform vfsOverlayPlatform =
+        CxxPlatform.builder().from(clangPlatform).setHeadersVfsOverlayEnabled(true).build();
+    CxxPlatform gccPlatform =
+        CxxPlatform.builder()
+            .from(CxxPlatformUtils.DEFAULT_PLATFORM)
+            .setHeadersVfsOverlayEnabled(true)
+            .build();
+
+    assertThat(
+        CxxDescriptionEnhancer.getHeaderModeForPlatform(resolver, clangPlatform, true),
+        equalTo(HeaderMode.SYMLINK_TREE_WITH_HEADER_MAP));
+    assertThat(
+        CxxDescriptionEnhancer.getHeaderModeForPlatform(resolver, vfsOverlayPlatform, true),
+        equalTo(HeaderMode.VFS_OVERLAY));
+    assertThat(
+        CxxDescriptionEnhancer.getHeaderModeForPlatform(resolver, vfsOverlayPlatform, false),
+        equalTo(HeaderMode.HEADER_MAP_ONLY));
+    assertThat(
+        CxxDescriptionEnhancer.getHeaderModeForPlatform(resolver, gccPlatform, true),
+        equalTo(HeaderMode.SYMLINK_TREE_ONLY));
+  }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.facebook.buck.cxx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.artifact_cache.CacheReadMode;
+import com.facebook.buck.artifact_cache.DirArtifactCache;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class CxxObjectCacheTest {
+
+  private static final ImmutableList<String> COMMAND_PREFIX = ImmutableList.of("clang++");
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private CxxObjectCache objectCache;
+
+  @Before
+  public void setUp() throws InterruptedException, IOException {
+    Path cacheDir = tmp.newFolder("cache");
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(cacheDir);
+    objectCache =
+        new CxxObjectCache(
+            new DirArtifactCache(
+                "cxx_objects", filesystem, cacheDir, CacheReadMode.READWRITE, Optional.empty()));
+  }
+
+  @Test
+  public void compilationArgumentsOmitPreprocessorFlags() {
+    assertEquals(
+        ImmutableList.of("-x", "c++", "-O2", "-Wall"),
+        CxxObjectCache.getCompilationArguments(
+            ImmutableList.of(
+                "-x", "c++", "-I", "include", "-DFOO=1", "-O2", "-isystem", "system", "-Ibar",
+                "-include", "prefix.h", "-Wall")));
+  }
+
+  @Test
+  public void flagsWritingOtherOutputsAreNotSupported() {
+    assertTrue(CxxObjectCache.isSupported(ImmutableList.of("-O2", "-g")));
+    assertFalse(CxxObjectCache.isSupported(ImmutableList.of("-O2", "-ftest-coverage")));
+    assertFalse(CxxObjectCache.isSupported(ImmutableList.of("-fmodules", "-O2")));
+  }
+
+  @Test
+  public void keyDependsOnPreprocessedSourceAndCompilationArguments() throws IOException {
+    Path source = tmp.newFile("source.i");
+    Files.write(source, "int main() { return 0; }\n".getBytes());
+    RuleKey key =
+        objectCache.computeKey(
+            COMMAND_PREFIX,
+            ImmutableMap.of(),
+            CxxObjectCache.getCompilationArguments(ImmutableList.of("-O2", "-Ia")),
+            source);
+
+    assertEquals(
+        key,
+        objectCache.computeKey(
+            COMMAND_PREFIX,
+            ImmutableMap.of(),
+            CxxObjectCache.getCompilationArguments(ImmutableList.of("-Ib", "-DX", "-O2")),
+            source));
+    assertNotEquals(
+        key,
+        objectCache.computeKey(
+            COMMAND_PREFIX,
+            ImmutableMap.of(),
+            CxxObjectCache.getCompilationArguments(ImmutableList.of("-O0", "-Ia")),
+            source));
+    assertNotEquals(
+        key,
+        objectCache.computeKey(
+            ImmutableList.of("g++"),
+            ImmutableMap.of(),
+            CxxObjectCache.getCompilationArguments(ImmutableList.of("-O2", "-Ia")),
+            source));
+
+    Files.write(source, "int main() { return 1; }\n".getBytes());
+    assertNotEquals(
+        key,
+        objectCache.computeKey(
+            COMMAND_PREFIX,
+            ImmutableMap.of(),
+            CxxObjectCache.getCompilationArguments(ImmutableList.of("-O2", "-Ia")),
+            source));
+  }
+
+  @Test
+  public void storedObjectsAreFetchedWithTheirDiagnostics() throws IOException {
+    RuleKey key = new RuleKey("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+    Path object = tmp.newFile("foo.o");
+    Files.write(object, "object".getBytes());
+    Path fetched = tmp.getRoot().resolve("fetched.o");
+
+    assertEquals(Optional.empty(), objectCache.fetch(key, fetched));
+    assertFalse(Files.exists(fetched));
+
+    objectCache.store(key, object, "foo.cpp:1:1: warning: something");
+    assertEquals(Optional.of("foo.cpp:1:1: warning: something"), objectCache.fetch(key, fetched));
+    assertEquals("object", new String(Files.readAllBytes(fetched)));
+  }
+}
@@ -219,6 +219,7 @@ public class CxxPreprocessAndCompileTest {
                     DEFAULT_INPUT_TYPE,
                     Optional.empty(),
                     CxxPlatformUtils.DEFAULT_COMPILER_DEBUG_PATH_SANITIZER,
+                    Optional.empty(),
                     Optional.empty()));
     assertNotEquals(defaultRuleKey, operationChange);
 
@@ -344,6 +345,7 @@ public class CxxPreprocessAndCompileTest {
                     DEFAULT_INPUT_TYPE,
                     Optional.empty(),
                     CxxPlatformUtils.DEFAULT_COMPILER_DEBUG_PATH_SANITIZER,
+                    Optional.empty(),
                     Optional.empty()));
       }
     }
@@ -456,6 +458,7 @@ public class CxxPreprocessAndCompileTest {
             DEFAULT_INPUT_TYPE,
             Optional.empty(),
             CxxPlatformUtils.DEFAULT_COMPILER_DEBUG_PATH_SANITIZER,
+            Optional.empty(),
             Optional.empty());
     assertThat(
         cxxPreprocess.getInputsAfterBuildingLocally(context, cellPathResolver),
@@ -565,6 +568,7 @@ public class CxxPreprocessAndCompileTest {
             DEFAULT_INPUT_TYPE,
             Optional.empty(),
             CxxPlatformUtils.DEFAULT_COMPILER_DEBUG_PATH_SANITIZER,
+            Optional.empty(),
             Optional.empty());
 
     ImmutableList<String> command =
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.cxx;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.step.ExecutionContext;
+import com.facebook.buck.step.TestExecutionContext;
+import com.facebook.buck.util.ObjectMappers;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class VfsOverlayStepTest {
+
+  @Rule public final TemporaryFolder tmpDir = new TemporaryFolder();
+
+  @Test
+  public void testVfsOverlay() throws InterruptedException, IOException {
+    ProjectFilesystem projectFilesystem =
+        TestProjectFilesystems.createProjectFilesystem(tmpDir.getRoot().toPath());
+    ExecutionContext context = TestExecutionContext.newInstance();
+
+    Path output = Paths.get("headers.yaml");
+    Path root = projectFilesystem.resolve("buck-out/gen/foo/headers");
+    ImmutableMap<Path, Path> entries =
+        ImmutableMap.of(
+            Paths.get("file1.h"), Paths.get("/some/absolute/path.h"),
+            Paths.get("prefix/file1.h"), Paths.get("/some/absolute/path.h"),
+            Paths.get("prefix/nested/file2.h"), Paths.get("/other/absolute/path.h"));
+
+    new VfsOverlayStep(projectFilesystem, output, root, entries).execute(context);
+
+    JsonNode overlay =
+        ObjectMappers.READER.readTree(projectFilesystem.readFileIfItExists(output).get());
+    assertThat(overlay.get("version").asInt(), equalTo(0));
+    assertThat(overlay.get("use-external-names").asText(), equalTo("true"));
+    assertThat(overlay.get("roots").size(), equalTo(1));
+
+    JsonNode rootDirectory = overlay.get("roots").get(0);
+    assertThat(rootDirectory.get("name").asText(), equalTo(root.toString()));
+    JsonNode rootContents = rootDirectory.get("contents");
+    assertThat(rootContents.size(), equalTo(2));
+    assertFile(rootContents.get(0), "file1.h", "/some/absolute/path.h");
+
+    JsonNode prefix = rootContents.get(1);
+    assertThat(prefix.get("type").asText(), equalTo("directory"));
+    assertThat(prefix.get("name").asText(), equalTo("prefix"));
+    assertFile(prefix.get("contents").get(0), "file1.h", "/some/absolute/path.h");
+    JsonNode nested = prefix.get("contents").get(1);
+    assertThat(nested.get("name").asText(), equalTo("nested"));
+    assertFile(nested.get("contents").get(0), "file2.h", "/other/absolute/path.h");
+  }
+
+  @Test
+  public void testHeaderShadowingDirectoryFails() throws InterruptedException, IOException {
+    ProjectFilesystem projectFilesystem =
+        TestProjectFilesystems.createProjectFilesystem(tmpDir.getRoot().toPath());
+    ImmutableMap<Path, Path> entries =
+        ImmutableMap.of(
+            Paths.get("prefix"), Paths.get("/some/absolute/path.h"),
+            Paths.get("prefix/file.h"), Paths.get("/other/absolute/path.h"));
+
+    try {
+      new VfsOverlayStep(
+              projectFilesystem,
+              Paths.get("headers.yaml"),
+              projectFilesystem.resolve("headers"),
+              entries)
+          .execute(TestExecutionContext.newInstance());
+      fail("Expected the overlay to be rejected.");
+    } catch (IOException e) {
+      assertThat(
+          e.getMessage(), equalTo("prefix/file.h is both a header and a directory of headers."));
+    }
+  }
+
+  private static void assertFile(JsonNode file, String name, String externalContents) {
+    assertThat(file.get("type").asText(), equalTo("file"));
+    assertThat(file.get("name").asText(), equalTo(name));
+    assertThat(file.get("external-contents").asText(), equalTo(externalContents));
+  }
+}
@@ -92,6 +92,7 @@ public class CxxPlatformUtils {
           .setHeaderVerification(DEFAULT_CONFIG.getHeaderVerification())
           .setPublicHeadersSymlinksEnabled(true)
           .setPrivateHeadersSymlinksEnabled(true)
+          .setHeadersVfsOverlayEnabled(false)
           .build();
 
   public static final FlavorDomain<CxxPlatform> DEFAULT_PLATFORMS =
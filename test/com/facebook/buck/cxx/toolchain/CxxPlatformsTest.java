@@ -82,6 +82,7 @@ public class CxxPlatformsTest {
             .setHeaderVerification(CxxPlatformUtils.DEFAULT_PLATFORM.getHeaderVerification())
             .setPublicHeadersSymlinksEnabled(true)
             .setPrivateHeadersSymlinksEnabled(true)
+            .setHeadersVfsOverlayEnabled(false)
             .build();
 
     BuckConfig buckConfig = FakeBuckConfig.builder().setSections(sections).build();
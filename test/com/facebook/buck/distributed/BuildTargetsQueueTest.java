@@ -24,6 +24,8 @@ import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.BuildTargetFactory;
 import com.facebook.buck.parser.NoSuchBuildTargetException;
 import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.BuildRuleDurationEstimator;
+import com.facebook.buck.rules.BuildRuleDurationHistory;
 import com.facebook.buck.rules.BuildRuleParams;
 import com.facebook.buck.rules.BuildRuleResolver;
 import com.facebook.buck.rules.DefaultTargetNodeToBuildRuleTransformer;
@@ -33,9 +35,12 @@ import com.facebook.buck.rules.SingleThreadedBuildRuleResolver;
 import com.facebook.buck.rules.SourcePathRuleFinder;
 import com.facebook.buck.rules.TargetGraph;
 import com.facebook.buck.rules.TestBuildRuleParams;
+import com.facebook.buck.testutil.FakeProjectFilesystem;
 import com.facebook.buck.testutil.integration.TemporaryPaths;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSortedSet;
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.Stream;
 import org.junit.Assert;
@@ -222,6 +227,72 @@ public class BuildTargetsQueueTest {
     Assert.assertEquals(0, zeroDepWorkUnits.size());
   }
 
+  @Test
+  public void testLongestCriticalPathIsDequeuedFirst() throws NoSuchBuildTargetException {
+    // Graph structure:
+    //        / right - chain top
+    // root -
+    //        \ left
+    BuildRuleResolver resolver = createUnbalancedResolver();
+    BuildTarget target = BuildTargetFactory.newInstance(TARGET_NAME);
+    BuildTargetsQueue queue = BuildTargetsQueue.newQueue(resolver, ImmutableList.of(target));
+
+    List<WorkUnit> zeroDepWorkUnits = queue.dequeueZeroDependencyNodes(ImmutableList.of(), 1);
+    Assert.assertEquals(1, zeroDepWorkUnits.size());
+    Assert.assertEquals(
+        ImmutableList.of(CHAIN_TOP_TARGET, RIGHT_TARGET),
+        zeroDepWorkUnits.get(0).getBuildTargets());
+  }
+
+  @Test
+  public void testCriticalPathUsesHistoricalDurations()
+      throws NoSuchBuildTargetException, IOException {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    BuildRuleDurationHistory.update(
+        filesystem,
+        ImmutableMap.of(
+            LEFT_TARGET, new BuildRuleDurationHistory.Entry("default_java_library", 60_000),
+            RIGHT_TARGET, new BuildRuleDurationHistory.Entry("default_java_library", 100),
+            CHAIN_TOP_TARGET, new BuildRuleDurationHistory.Entry("default_java_library", 100)));
+
+    BuildRuleResolver resolver = createUnbalancedResolver();
+    BuildTarget target = BuildTargetFactory.newInstance(TARGET_NAME);
+    BuildTargetsQueue queue =
+        BuildTargetsQueue.newQueue(
+            resolver,
+            ImmutableList.of(target),
+            new BuildRuleDurationEstimator(BuildRuleDurationHistory.load(filesystem)));
+
+    List<WorkUnit> zeroDepWorkUnits = queue.dequeueZeroDependencyNodes(ImmutableList.of(), 1);
+    Assert.assertEquals(1, zeroDepWorkUnits.size());
+    Assert.assertEquals(ImmutableList.of(LEFT_TARGET), zeroDepWorkUnits.get(0).getBuildTargets());
+
+    zeroDepWorkUnits = queue.dequeueZeroDependencyNodes(ImmutableList.of(), 1);
+    Assert.assertEquals(
+        ImmutableList.of(CHAIN_TOP_TARGET, RIGHT_TARGET),
+        zeroDepWorkUnits.get(0).getBuildTargets());
+  }
+
+  private static BuildRuleResolver createUnbalancedResolver() throws NoSuchBuildTargetException {
+    BuildRuleResolver resolver =
+        new SingleThreadedBuildRuleResolver(
+            TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer());
+
+    BuildTarget root = BuildTargetFactory.newInstance(TARGET_NAME);
+    BuildTarget left = BuildTargetFactory.newInstance(LEFT_TARGET);
+    BuildTarget right = BuildTargetFactory.newInstance(RIGHT_TARGET);
+    BuildTarget chainTop = BuildTargetFactory.newInstance(CHAIN_TOP_TARGET);
+
+    ImmutableSortedSet<BuildRule> buildRules =
+        ImmutableSortedSet.of(
+            JavaLibraryBuilder.createBuilder(chainTop).build(resolver),
+            JavaLibraryBuilder.createBuilder(left).build(resolver),
+            JavaLibraryBuilder.createBuilder(right).addDep(chainTop).build(resolver),
+            JavaLibraryBuilder.createBuilder(root).addDep(left).addDep(right).build(resolver));
+    buildRules.forEach(resolver::addToIndex);
+    return resolver;
+  }
+
   private static BuildRuleResolver createSimpleResolver() throws NoSuchBuildTargetException {
     BuildRuleResolver resolver =
         new SingleThreadedBuildRuleResolver(
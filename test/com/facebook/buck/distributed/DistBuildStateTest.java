@@ -42,12 +42,15 @@ import com.facebook.buck.parser.ParserTargetNodeFactory;
 import com.facebook.buck.parser.exceptions.BuildFileParseException;
 import com.facebook.buck.plugin.BuckPluginManagerFactory;
 import com.facebook.buck.rules.ActionGraph;
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.BuildRuleDurationHistory;
 import com.facebook.buck.rules.BuildRuleResolver;
 import com.facebook.buck.rules.Cell;
 import com.facebook.buck.rules.DefaultBuildTargetSourcePath;
 import com.facebook.buck.rules.DefaultCellPathResolver;
 import com.facebook.buck.rules.DefaultSourcePathResolver;
 import com.facebook.buck.rules.DefaultTargetNodeToBuildRuleTransformer;
+import com.facebook.buck.rules.FakeBuildRule;
 import com.facebook.buck.rules.KnownBuildRuleTypesFactory;
 import com.facebook.buck.rules.PathSourcePath;
 import com.facebook.buck.rules.SdkEnvironment;
@@ -91,6 +94,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import org.hamcrest.Matchers;
@@ -162,6 +166,49 @@ public class DistBuildStateTest {
     assertThat(cells.get(0).getBuckConfig(), Matchers.equalTo(buckConfig));
   }
 
+  @Test
+  public void canReconstructBuildRuleDurations() throws IOException, InterruptedException {
+    ProjectFilesystem filesystem = createJavaOnlyFilesystem("/saving");
+    Cell rootCellWhenSaving = new TestCellBuilder().setFilesystem(filesystem).build();
+    setUp(rootCellWhenSaving.getBuckConfig());
+
+    BuildRule lib = new FakeBuildRule("//:lib");
+    BuildRule app = new FakeBuildRule("//:app", lib);
+    BuildJobState dump =
+        DistBuildState.dump(
+            new DistBuildCellIndexer(rootCellWhenSaving),
+            emptyActionGraph(),
+            createDefaultCodec(rootCellWhenSaving, Optional.empty()),
+            createTargetGraph(filesystem),
+            ImmutableSet.of(BuildTargetFactory.newInstance(filesystem.getRootPath(), "//:dummy")));
+    DistBuildState.dumpBuildRuleDurations(
+        dump,
+        ImmutableList.of(lib, app),
+        BuildRuleDurationHistory.of(
+            ImmutableMap.of(
+                "//:lib", new BuildRuleDurationHistory.Entry("fake_build_rule", 100),
+                "//:other", new BuildRuleDurationHistory.Entry("fake_build_rule", 10))));
+
+    Cell rootCellWhenLoading =
+        new TestCellBuilder().setFilesystem(createJavaOnlyFilesystem("/loading")).build();
+    DistBuildState distributedBuildState =
+        DistBuildState.load(
+            FakeBuckConfig.builder().build(),
+            BuildJobStateSerializer.deserialize(BuildJobStateSerializer.serialize(dump)),
+            rootCellWhenLoading,
+            knownBuildRuleTypesFactory,
+            sdkEnvironment,
+            new DefaultProjectFilesystemFactory());
+    BuildRuleDurationHistory history =
+        distributedBuildState.getBuildRuleDurationHistory(ImmutableList.of(lib, app));
+
+    assertEquals(OptionalLong.of(100), history.getWallMillis("//:lib"));
+    assertEquals(OptionalLong.empty(), history.getWallMillis("//:app"));
+    // Only the rules of the build are shipped.
+    assertEquals(OptionalLong.empty(), history.getWallMillis("//:other"));
+    assertEquals(OptionalLong.of(100), history.getAverageWallMillis("fake_build_rule"));
+  }
+
   @Test
   public void reconstructedServerConfigIncludesSpecifiedOverride()
       throws IOException, InterruptedException {
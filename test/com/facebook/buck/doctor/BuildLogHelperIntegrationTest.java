@@ -28,6 +28,9 @@ import com.facebook.buck.testutil.integration.TestDataHelper;
 import com.facebook.buck.util.MoreCollectors;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
 import org.junit.Test;
@@ -59,4 +62,25 @@ public class BuildLogHelperIntegrationTest {
         Matchers.equalTo(
             ImmutableMap.of(new BuildId("ac8bd626-6137-4747-84dd-5d4f215c876c"), "build buck")));
   }
+
+  @Test
+  public void findsBinaryTraceFiles() throws Exception {
+    ProjectWorkspace workspace =
+        TestDataHelper.createProjectWorkspaceForScenario(this, "report", temporaryFolder);
+    workspace.setUp();
+    Path logDir =
+        Paths.get("buck-out/log")
+            .resolve("2016-06-21_16h16m24s_buildcommand_ac8bd626-6137-4747-84dd-5d4f215c876c");
+    workspace.writeContentsToPath("", logDir.resolve("build.ac8bd626.btrace").toString());
+
+    BuildLogHelper buildLogHelper = new BuildLogHelper(workspace.asCell().getFilesystem());
+    ImmutableList<BuildLogEntry> buildLogs = buildLogHelper.getBuildLogs();
+
+    assertThat(
+        buildLogs
+            .stream()
+            .map(BuildLogEntry::getTraceFile)
+            .collect(MoreCollectors.toImmutableList()),
+        Matchers.equalTo(ImmutableList.of(Optional.of(logDir.resolve("build.ac8bd626.btrace")))));
+  }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.timing.DefaultClock;
+import com.google.common.collect.Iterables;
+import com.google.common.eventbus.Subscribe;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class PerListenerQueueBuckEventBusTest {
+
+  private static final int TIMEOUT_MILLIS = 5000;
+
+  @Test
+  public void eventsAreDeliveredToEachListenerInOrder() throws IOException {
+    PerListenerQueueBuckEventBus eventBus = newEventBus(1024);
+    RecordingListener first = new RecordingListener();
+    RecordingListener second = new RecordingListener();
+    eventBus.register(first);
+    eventBus.register(second);
+
+    for (int i = 0; i < 1000; i++) {
+      eventBus.post(new NumberedEvent(i));
+    }
+    eventBus.close();
+
+    for (RecordingListener listener : new RecordingListener[] {first, second}) {
+      assertEquals(1000, listener.numbers.size());
+      for (int i = 0; i < 1000; i++) {
+        assertEquals(i, (int) listener.numbers.get(i));
+      }
+    }
+    assertEquals(0, eventBus.getDroppedEventCount());
+    assertEquals(0, eventBus.getBacklogEventCount());
+  }
+
+  @Test
+  public void slowListenerDropsEventsWithoutDelayingOthers() throws Exception {
+    PerListenerQueueBuckEventBus eventBus = newEventBus(4);
+    CountDownLatch unblock = new CountDownLatch(1);
+    BlockingListener slow = new BlockingListener(unblock);
+    Semaphore fastReceived = new Semaphore(0);
+    eventBus.register(slow);
+    eventBus.register(
+        new Object() {
+          @Subscribe
+          public void numbered(@SuppressWarnings("unused") NumberedEvent event) {
+            fastReceived.release();
+          }
+        });
+
+    for (int i = 0; i < 10; i++) {
+      eventBus.post(new NumberedEvent(i));
+      assertTrue(fastReceived.tryAcquire(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+    assertTrue(eventBus.getDroppedEventCount() >= 5);
+    assertTrue(eventBus.getBacklogEventCount() <= 4);
+
+    unblock.countDown();
+    eventBus.close();
+    PerListenerQueueBuckEventBus.ListenerStats slowStats =
+        Iterables.getFirst(eventBus.getListenerStats(), null);
+    assertEquals(10, slowStats.getDeliveredEvents() + slowStats.getDroppedEvents());
+    assertEquals(0, slowStats.getBacklogEvents());
+  }
+
+  @Test
+  public void eventsWithoutSubscribersAreNotQueued() throws IOException {
+    PerListenerQueueBuckEventBus eventBus = newEventBus(4);
+    eventBus.register(new RecordingListener());
+
+    for (int i = 0; i < 10; i++) {
+      eventBus.post(ConsoleEvent.info("unrelated"));
+    }
+    eventBus.close();
+
+    assertEquals(0, eventBus.getDroppedEventCount());
+  }
+
+  private static PerListenerQueueBuckEventBus newEventBus(int queueCapacity) {
+    return new PerListenerQueueBuckEventBus(
+        new DefaultClock(),
+        BuckEventBusForTests.BUILD_ID_FOR_TEST,
+        queueCapacity,
+        2,
+        TIMEOUT_MILLIS);
+  }
+
+  private static class RecordingListener {
+    private final List<Integer> numbers = new ArrayList<>();
+
+    @Subscribe
+    public void numbered(NumberedEvent event) {
+      numbers.add(event.number);
+    }
+  }
+
+  private static class BlockingListener {
+    private final CountDownLatch unblock;
+
+    private BlockingListener(CountDownLatch unblock) {
+      this.unblock = unblock;
+    }
+
+    @Subscribe
+    public void numbered(@SuppressWarnings("unused") NumberedEvent event)
+        throws InterruptedException {
+      unblock.await();
+    }
+  }
+
+  private static class NumberedEvent extends AbstractBuckEvent {
+    private final int number;
+
+    private NumberedEvent(int number) {
+      super(EventKey.unique());
+      this.number = number;
+    }
+
+    @Override
+    public String getValueString() {
+      return Integer.toString(number);
+    }
+
+    @Override
+    public String getEventName() {
+      return "NumberedEvent";
+    }
+  }
+}
@@ -69,6 +69,7 @@ import com.facebook.buck.util.HumanReadableException;
 import com.facebook.buck.util.MoreCollectors;
 import com.facebook.buck.util.ObjectMappers;
 import com.facebook.buck.util.perf.PerfStatsTracking;
+import com.facebook.buck.util.trace.BinaryTrace;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -76,6 +77,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Iterables;
 import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
@@ -85,6 +87,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.TimeZone;
 import java.util.UUID;
@@ -731,6 +734,37 @@ public class ChromeTraceBuildListenerTest {
     assertThat(elements, not(empty()));
   }
 
+  @Test
+  public void canWriteBinaryTraces() throws InterruptedException, IOException {
+    ProjectFilesystem projectFilesystem =
+        TestProjectFilesystems.createProjectFilesystem(tmpDir.getRoot().toPath());
+
+    ChromeTraceBuildListener listener =
+        new ChromeTraceBuildListener(
+            projectFilesystem,
+            invocationInfo,
+            FAKE_CLOCK,
+            Locale.US,
+            TimeZone.getTimeZone("America/Los_Angeles"),
+            ManagementFactory.getThreadMXBean(),
+            ChromeTraceBuckConfig.of(
+                FakeBuckConfig.builder()
+                    .setSections(ImmutableMap.of("log", ImmutableMap.of("trace_format", "binary")))
+                    .build()));
+    listener.outputTrace(invocationInfo.getBuildId());
+
+    Path tracePath = Paths.get(EXPECTED_DIR + "build.2014-09-02.16-55-51.BUILD_ID.btrace");
+    assertTrue(projectFilesystem.exists(tracePath));
+
+    ByteArrayOutputStream json = new ByteArrayOutputStream();
+    BinaryTrace.convertToJson(projectFilesystem.newFileInputStream(tracePath), json);
+    List<Map<String, Object>> elements =
+        ObjectMappers.readValue(
+            json.toString("UTF-8"), new TypeReference<List<Map<String, Object>>>() {});
+    assertThat(elements, not(empty()));
+    assertEquals("process_name", elements.get(0).get("name"));
+  }
+
   private static ChromeTraceBuckConfig chromeTraceConfig(int tracesToKeep, boolean compressTraces) {
     return ChromeTraceBuckConfig.of(
         FakeBuckConfig.builder()
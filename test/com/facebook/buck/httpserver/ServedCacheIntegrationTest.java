@@ -16,6 +16,7 @@
 
 package com.facebook.buck.httpserver;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -24,6 +25,7 @@ import com.facebook.buck.artifact_cache.ArtifactCache;
 import com.facebook.buck.artifact_cache.ArtifactCacheBuckConfig;
 import com.facebook.buck.artifact_cache.ArtifactCaches;
 import com.facebook.buck.artifact_cache.ArtifactInfo;
+import com.facebook.buck.artifact_cache.CacheReadMode;
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.CacheResultType;
 import com.facebook.buck.artifact_cache.DirArtifactCacheTestUtil;
@@ -44,9 +46,12 @@ import com.facebook.buck.util.environment.Architecture;
 import com.facebook.buck.util.environment.Platform;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.Uninterruptibles;
 import java.io.DataOutputStream;
 import java.io.FilterInputStream;
 import java.io.IOException;
@@ -54,7 +59,17 @@ import java.io.InputStream;
 import java.io.StringReader;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileAttribute;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
 import org.hamcrest.Matchers;
 import org.junit.After;
 import org.junit.Before;
@@ -144,6 +159,158 @@ public class ServedCacheIntegrationTest {
         projectFilesystem.readFileIfItExists(fetchedContents).get(), Matchers.equalTo(A_FILE_DATA));
   }
 
+  @Test
+  public void testFetchIsServedFromTheDircacheFile() throws Exception {
+    ProjectFilesystem noTempFilesFilesystem =
+        new DefaultProjectFilesystem(
+            tmpDir.getRoot(), new DefaultProjectFilesystemDelegate(tmpDir.getRoot())) {
+          @Override
+          public Path createTempFile(
+              Path directory, String prefix, String suffix, FileAttribute<?>... attrs)
+              throws IOException {
+            throw new IOException("Artifacts should not be copied to be served.");
+          }
+        };
+    webServer = new WebServer(/* port */ 0, noTempFilesFilesystem);
+    webServer.updateAndStartIfNeeded(Optional.of(createUndecoratedDirCache()));
+
+    ArtifactCache serverBackedCache =
+        createArtifactCache(createMockLocalHttpCacheConfig(webServer.getPort().get()));
+
+    // Fetch twice, the second response uses the remembered checksum of the artifact.
+    for (int i = 0; i < 2; i++) {
+      Path fetchedContents = tmpDir.newFile();
+      CacheResult cacheResult =
+          Futures.getUnchecked(
+              serverBackedCache.fetchAsync(A_FILE_RULE_KEY, LazyPath.ofInstance(fetchedContents)));
+      assertThat(cacheResult.getType(), Matchers.equalTo(CacheResultType.HIT));
+      assertThat(cacheResult.getMetadata(), Matchers.equalTo(A_FILE_METADATA));
+      assertThat(
+          projectFilesystem.readFileIfItExists(fetchedContents).get(),
+          Matchers.equalTo(A_FILE_DATA));
+    }
+
+    CacheResult cacheResult =
+        Futures.getUnchecked(
+            serverBackedCache.fetchAsync(
+                new RuleKey("9876543210"), LazyPath.ofInstance(tmpDir.newFile())));
+    assertThat(cacheResult.getType(), Matchers.equalTo(CacheResultType.MISS));
+  }
+
+  @Test
+  public void testRangeRequests() throws Exception {
+    webServer = new WebServer(/* port */ 0, projectFilesystem);
+    webServer.updateAndStartIfNeeded(Optional.of(createUndecoratedDirCache()));
+
+    OkHttpClient client = new OkHttpClient();
+    String url =
+        String.format("http://127.0.0.1:%d/artifacts/key/%s", webServer.getPort().get(), "%s");
+    Request request = new Request.Builder().url(String.format(url, A_FILE_RULE_KEY)).build();
+    byte[] body;
+    try (Response response = client.newCall(request).execute()) {
+      assertThat(response.code(), Matchers.equalTo(200));
+      body = response.body().bytes();
+    }
+    assertThat(
+        new String(body, body.length - A_FILE_DATA.length(), A_FILE_DATA.length(), UTF_8),
+        Matchers.equalTo(A_FILE_DATA));
+
+    // Ranges which span the metadata and the artifact, and which lie within either of them.
+    for (int[] range : new int[][] {{0, body.length - 1}, {2, 9}, {5, body.length - 3}}) {
+      try (Response response =
+          client
+              .newCall(
+                  request
+                      .newBuilder()
+                      .header("Range", String.format("bytes=%d-%d", range[0], range[1]))
+                      .build())
+              .execute()) {
+        assertThat(response.code(), Matchers.equalTo(206));
+        assertThat(
+            response.header("Content-Range"),
+            Matchers.equalTo(String.format("bytes %d-%d/%d", range[0], range[1], body.length)));
+        assertThat(
+            response.body().bytes(),
+            Matchers.equalTo(Arrays.copyOfRange(body, range[0], range[1] + 1)));
+      }
+    }
+
+    try (Response response =
+        client
+            .newCall(request.newBuilder().header("Range", "bytes=" + body.length + "-").build())
+            .execute()) {
+      assertThat(response.code(), Matchers.equalTo(416));
+    }
+  }
+
+  @Test
+  public void testRequestsBeyondTheConcurrencyLimitAreRejected() throws Exception {
+    CountDownLatch fetchStarted = new CountDownLatch(1);
+    CountDownLatch finishFetch = new CountDownLatch(1);
+    ArtifactCache blockingCache =
+        new ForwardingArtifactCache(dirCache) {
+          @Override
+          public ListenableFuture<CacheResult> fetchAsync(RuleKey ruleKey, LazyPath output) {
+            fetchStarted.countDown();
+            Uninterruptibles.awaitUninterruptibly(finishFetch);
+            return super.fetchAsync(ruleKey, output);
+          }
+        };
+    webServer = new WebServer(/* port */ 0, projectFilesystem);
+    webServer.updateAndStartIfNeeded(Optional.of(blockingCache), OptionalInt.of(1));
+
+    ArtifactCache serverBackedCache =
+        createArtifactCache(createMockLocalHttpCacheConfig(webServer.getPort().get()));
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<CacheResult> blockedFetch =
+          executor.submit(
+              () ->
+                  Futures.getUnchecked(
+                      serverBackedCache.fetchAsync(
+                          A_FILE_RULE_KEY, LazyPath.ofInstance(tmpDir.newFile()))));
+      fetchStarted.await();
+
+      OkHttpClient client = new OkHttpClient();
+      Request request =
+          new Request.Builder()
+              .url(
+                  String.format(
+                      "http://127.0.0.1:%d/artifacts/key/%s",
+                      webServer.getPort().get(), A_FILE_RULE_KEY))
+              .build();
+      try (Response response = client.newCall(request).execute()) {
+        assertThat(response.code(), Matchers.equalTo(503));
+      }
+
+      finishFetch.countDown();
+      assertThat(blockedFetch.get().getType(), Matchers.equalTo(CacheResultType.HIT));
+      try (Response response = client.newCall(request).execute()) {
+        assertThat(response.code(), Matchers.equalTo(200));
+      }
+    } finally {
+      finishFetch.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testContainsFromServedDircache() throws Exception {
+    webServer = new WebServer(/* port */ 0, projectFilesystem);
+    webServer.updateAndStartIfNeeded(Optional.of(dirCache));
+
+    ArtifactCache serverBackedCache =
+        createArtifactCache(createMockLocalHttpCacheConfig(webServer.getPort().get()));
+
+    RuleKey missingRuleKey = new RuleKey("9876543210");
+    ImmutableMap<RuleKey, CacheResult> results =
+        Futures.getUnchecked(
+            serverBackedCache.containsAsync(ImmutableSet.of(A_FILE_RULE_KEY, missingRuleKey)));
+    // The two-level decorator around the http cache leaves keys the server has to a fetch.
+    assertThat(results.get(A_FILE_RULE_KEY).getType(), Matchers.is(CacheResultType.SKIPPED));
+    assertThat(results.get(missingRuleKey).getType(), Matchers.is(CacheResultType.MISS));
+  }
+
   private static class ThrowAfterXBytesStream extends FilterInputStream {
     private final long bytesToThrowAfter;
     private long bytesRead = 0L;
@@ -507,6 +674,12 @@ public class ServedCacheIntegrationTest {
     return cacheResult.getType().isSuccess();
   }
 
+  /** @return the dir cache the artifact is stored in, without the decorators of a build. */
+  private ArtifactCache createUndecoratedDirCache() throws InterruptedException, IOException {
+    return TestArtifactCaches.createDirCacheForTest(
+        projectFilesystem.getRootPath(), Paths.get("test-cache"));
+  }
+
   private ArtifactCache createArtifactCache(ArtifactCacheBuckConfig buckConfig) {
     return new ArtifactCaches(
             buckConfig,
@@ -518,4 +691,39 @@ public class ServedCacheIntegrationTest {
             Optional.empty())
         .newInstance();
   }
+
+  /** Forwards to another cache. */
+  private static class ForwardingArtifactCache implements ArtifactCache {
+    private final ArtifactCache delegate;
+
+    private ForwardingArtifactCache(ArtifactCache delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public ListenableFuture<CacheResult> fetchAsync(RuleKey ruleKey, LazyPath output) {
+      return delegate.fetchAsync(ruleKey, output);
+    }
+
+    @Override
+    public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+        ImmutableSet<RuleKey> ruleKeys) {
+      return delegate.containsAsync(ruleKeys);
+    }
+
+    @Override
+    public ListenableFuture<Void> store(ArtifactInfo info, BorrowablePath output) {
+      return delegate.store(info, output);
+    }
+
+    @Override
+    public CacheReadMode getCacheReadMode() {
+      return delegate.getCacheReadMode();
+    }
+
+    @Override
+    public void close() {
+      delegate.close();
+    }
+  }
 }
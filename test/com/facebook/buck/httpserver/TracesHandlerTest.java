@@ -17,12 +17,14 @@
 package com.facebook.buck.httpserver;
 
 import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.util.BuckConstant;
 import com.facebook.buck.util.trace.BuildTraces;
 import com.facebook.buck.util.trace.BuildTraces.TraceAttributes;
 import com.google.common.collect.ImmutableList;
+import com.google.template.soy.data.SoyListData;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
@@ -86,4 +88,28 @@ public class TracesHandlerTest extends EasyMockSupport {
 
     verifyAll();
   }
+
+  @Test
+  public void testGetTracesListsBinaryTraces() throws IOException {
+    BuildTraces buildTraces = createMock(BuildTraces.class);
+    expect(buildTraces.getTraceAttributesFor(traceDir.resolve("build.a.trace")))
+        .andReturn(new TraceAttributes(Optional.of("buck build buck"), FileTime.fromMillis(1000L)));
+    expect(buildTraces.getTraceAttributesFor(traceDir.resolve("build.b.btrace")))
+        .andReturn(new TraceAttributes(Optional.of("buck test buck"), FileTime.fromMillis(2000L)));
+    expect(buildTraces.listTraceFilesByLastModified())
+        .andReturn(
+            ImmutableList.of(
+                traceDir.resolve("build.b.btrace"), traceDir.resolve("build.a.trace")));
+
+    replayAll();
+
+    SoyListData traces = new TracesHandlerDelegate(buildTraces).getTraces();
+    assertEquals(2, traces.length());
+    assertEquals("build.b.btrace", traces.getMapData(0).getString("name"));
+    assertEquals("b", traces.getMapData(0).getString("id"));
+    assertEquals("build.a.trace", traces.getMapData(1).getString("name"));
+    assertEquals("a", traces.getMapData(1).getString("id"));
+
+    verifyAll();
+  }
 }
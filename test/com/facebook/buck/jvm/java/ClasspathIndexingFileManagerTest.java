@@ -0,0 +1,279 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Ordering;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ClasspathIndexingFileManagerTest {
+
+  private static final Set<JavaFileObject.Kind> ALL_KINDS =
+      ImmutableSet.of(
+          JavaFileObject.Kind.CLASS,
+          JavaFileObject.Kind.SOURCE,
+          JavaFileObject.Kind.HTML,
+          JavaFileObject.Kind.OTHER);
+
+  @Rule public TemporaryFolder temp = new TemporaryFolder();
+
+  private JavaCompiler compiler;
+  private ClasspathJarIndexCache indexCache;
+
+  @Before
+  public void setUp() {
+    compiler = ToolProvider.getSystemJavaCompiler();
+    indexCache = new ClasspathJarIndexCache(1024 * 1024);
+  }
+
+  @Test
+  public void listsTheSameFilesAsJavac() throws IOException {
+    Path jar =
+        writeJar(
+            "first.jar",
+            "com/example/A.class",
+            "com/example/A$Inner.class",
+            "com/example/sub/B.class",
+            "com/example/resource.txt",
+            "Root.class");
+    File directory = temp.newFolder("classes");
+    Files.createDirectories(directory.toPath().resolve("com/example"));
+    Files.write(directory.toPath().resolve("com/example/C.class"), new byte[0]);
+
+    ImmutableList<File> classpath = ImmutableList.of(jar.toFile(), directory);
+    try (StandardJavaFileManager javacFileManager =
+            compiler.getStandardFileManager(null, null, null);
+        StandardJavaFileManager indexingFileManager = indexCache.create(compiler)) {
+      javacFileManager.setLocation(StandardLocation.CLASS_PATH, classpath);
+      indexingFileManager.setLocation(StandardLocation.CLASS_PATH, classpath);
+
+      for (String packageName : ImmutableList.of("", "com", "com.example", "com.example.sub")) {
+        for (boolean recurse : new boolean[] {false, true}) {
+          for (Set<JavaFileObject.Kind> kinds :
+              ImmutableList.of(ImmutableSet.of(JavaFileObject.Kind.CLASS), ALL_KINDS)) {
+            assertEquals(
+                String.format("%s, recurse: %s, kinds: %s", packageName, recurse, kinds),
+                listBinaryNames(javacFileManager, packageName, kinds, recurse),
+                listBinaryNames(indexingFileManager, packageName, kinds, recurse));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void compilesAgainstIndexedJars() throws IOException {
+    File classes = temp.newFolder("dependency");
+    Path source = temp.getRoot().toPath().resolve("Dependency.java");
+    Files.write(
+        source,
+        "package dep; public class Dependency { public static int get() { return 1; } }"
+            .getBytes(Charsets.UTF_8));
+    assertTrue(compile(compiler.getStandardFileManager(null, null, null), classes, source));
+    Path jar = temp.getRoot().toPath().resolve("dependency.jar");
+    try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+      out.putNextEntry(new ZipEntry("dep/Dependency.class"));
+      out.write(Files.readAllBytes(classes.toPath().resolve("dep/Dependency.class")));
+    }
+
+    Path user = temp.getRoot().toPath().resolve("User.java");
+    Files.write(
+        user,
+        "public class User { int value = dep.Dependency.get(); }".getBytes(Charsets.UTF_8));
+    StandardJavaFileManager fileManager = indexCache.create(compiler);
+    fileManager.setLocation(StandardLocation.CLASS_PATH, ImmutableList.of(jar.toFile()));
+    assertTrue(compile(fileManager, temp.newFolder("out"), user));
+    assertEquals(1, indexCache.size());
+  }
+
+  @Test
+  public void reindexesJarsWhichChanged() throws IOException {
+    Path jar = writeJar("changing.jar", "a/A.class");
+    Files.setLastModifiedTime(jar, FileTime.fromMillis(1000));
+    assertEquals(
+        ImmutableList.of("a/A.class"),
+        ImmutableList.copyOf(indexCache.getIndex(jar).getEntries("a", false)));
+
+    writeJar("changing.jar", "a/A.class", "a/B.class");
+    Files.setLastModifiedTime(jar, FileTime.fromMillis(2000));
+    assertEquals(
+        ImmutableList.of("a/A.class", "a/B.class"),
+        ImmutableList.copyOf(indexCache.getIndex(jar).getEntries("a", false)));
+    assertEquals(1, indexCache.size());
+  }
+
+  @Test
+  public void reindexesJarsWhichChangedWithoutChangingTheirSizeOrModificationTime()
+      throws IOException {
+    // Like the jars built by buck, which all have the same modification time.
+    Path jar = writeJar("changing.jar", "a/A.class");
+    Files.setLastModifiedTime(jar, FileTime.fromMillis(1000));
+    long size = Files.size(jar);
+    assertEquals(
+        ImmutableList.of("a/A.class"),
+        ImmutableList.copyOf(indexCache.getIndex(jar).getEntries("a", false)));
+
+    writeJar("changing.jar", "a/B.class");
+    Files.setLastModifiedTime(jar, FileTime.fromMillis(1000));
+    assertEquals(size, Files.size(jar));
+    assertEquals(
+        ImmutableList.of("a/B.class"),
+        ImmutableList.copyOf(indexCache.getIndex(jar).getEntries("a", false)));
+  }
+
+  @Test
+  public void checksEachJarOncePerFileManager() throws IOException {
+    Path jar = writeJar("changing.jar", "a/A.class");
+    ImmutableList<File> classpath = ImmutableList.of(jar.toFile());
+    try (StandardJavaFileManager fileManager = indexCache.create(compiler)) {
+      fileManager.setLocation(StandardLocation.CLASS_PATH, classpath);
+      assertEquals(
+          ImmutableList.of("a.A"), listBinaryNames(fileManager, "a", ALL_KINDS, false));
+
+      writeJar("changing.jar", "a/B.class");
+      assertEquals(
+          ImmutableList.of("a.A"), listBinaryNames(fileManager, "a", ALL_KINDS, false));
+    }
+    try (StandardJavaFileManager fileManager = indexCache.create(compiler)) {
+      fileManager.setLocation(StandardLocation.CLASS_PATH, classpath);
+      assertEquals(
+          ImmutableList.of("a.B"), listBinaryNames(fileManager, "a", ALL_KINDS, false));
+    }
+  }
+
+  @Test
+  public void jarEntryUrisMatchJavacForJarsWithSpacesInTheirPath() throws IOException {
+    Path directory = temp.newFolder("with space").toPath();
+    Path jar = directory.resolve("a jar.jar");
+    Files.move(writeJar("spaces.jar", "a/A.class"), jar);
+    ImmutableList<File> classpath = ImmutableList.of(jar.toFile());
+    try (StandardJavaFileManager javacFileManager =
+            compiler.getStandardFileManager(null, null, null);
+        StandardJavaFileManager indexingFileManager = indexCache.create(compiler)) {
+      javacFileManager.setLocation(StandardLocation.CLASS_PATH, classpath);
+      indexingFileManager.setLocation(StandardLocation.CLASS_PATH, classpath);
+      URI uri = listFiles(indexingFileManager, "a", ALL_KINDS, false).get(0).toUri();
+
+      assertEquals(listFiles(javacFileManager, "a", ALL_KINDS, false).get(0).toUri(), uri);
+      // Like ClassUsageTracker does.
+      assertEquals(jar, Paths.get(URI.create(uri.getRawSchemeSpecificPart().split("!/")[0])));
+    }
+  }
+
+  @Test
+  public void jarEntriesAreNotTheSameAsOtherFiles() throws IOException {
+    Path jar = writeJar("same.jar", "a/A.class");
+    try (StandardJavaFileManager fileManager = indexCache.create(compiler)) {
+      fileManager.setLocation(StandardLocation.CLASS_PATH, ImmutableList.of(jar.toFile()));
+      JavaFileObject first = listFiles(fileManager, "a", ALL_KINDS, false).get(0);
+      JavaFileObject second = listFiles(fileManager, "a", ALL_KINDS, false).get(0);
+      JavaFileObject file =
+          fileManager.getJavaFileObjects(temp.newFile("A.class")).iterator().next();
+
+      assertTrue(fileManager.isSameFile(first, second));
+      assertFalse(fileManager.isSameFile(first, file));
+      assertEquals("a.A", fileManager.inferBinaryName(StandardLocation.CLASS_PATH, first));
+      assertTrue(first.isNameCompatible("A", JavaFileObject.Kind.CLASS));
+      assertEquals("jar", first.toUri().getScheme());
+    }
+  }
+
+  private boolean compile(StandardJavaFileManager fileManager, File outputDirectory, Path source)
+      throws IOException {
+    try {
+      fileManager.setLocation(StandardLocation.CLASS_OUTPUT, ImmutableList.of(outputDirectory));
+      return compiler
+          .getTask(
+              null,
+              fileManager,
+              null,
+              null,
+              null,
+              fileManager.getJavaFileObjects(source.toFile()))
+          .call();
+    } finally {
+      fileManager.close();
+    }
+  }
+
+  private Path writeJar(String name, String... entries) throws IOException {
+    Path jar = temp.getRoot().toPath().resolve(name);
+    try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+      for (String entry : entries) {
+        out.putNextEntry(new ZipEntry(entry));
+        out.closeEntry();
+      }
+    }
+    return jar;
+  }
+
+  private static List<JavaFileObject> listFiles(
+      StandardJavaFileManager fileManager,
+      String packageName,
+      Set<JavaFileObject.Kind> kinds,
+      boolean recurse)
+      throws IOException {
+    List<JavaFileObject> files = new ArrayList<>();
+    for (JavaFileObject file :
+        fileManager.list(StandardLocation.CLASS_PATH, packageName, kinds, recurse)) {
+      files.add(file);
+    }
+    return files;
+  }
+
+  private static List<String> listBinaryNames(
+      StandardJavaFileManager fileManager,
+      String packageName,
+      Set<JavaFileObject.Kind> kinds,
+      boolean recurse)
+      throws IOException {
+    List<String> names = new ArrayList<>();
+    for (JavaFileObject file : listFiles(fileManager, packageName, kinds, recurse)) {
+      names.add(
+          file.getKind() == JavaFileObject.Kind.OTHER
+              ? file.toUri().toString().replaceAll(".*[/!]", "")
+              : fileManager.inferBinaryName(StandardLocation.CLASS_PATH, file));
+    }
+    return Ordering.natural().sortedCopy(names);
+  }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.impl.DefaultProjectFilesystemFactory;
+import com.facebook.buck.rules.TestCellPathResolver;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.facebook.buck.util.MoreCollectors;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class IncrementalJavacCompilationTest {
+
+  private static final Path A = Paths.get("src/a/A.java");
+  private static final Path B = Paths.get("src/a/B.java");
+  private static final Path C = Paths.get("src/a/C.java");
+  private static final Path OUTPUT = Paths.get("classes");
+  private static final Path STATE = Paths.get("state");
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private JavaCompiler javac;
+  private Path depJar;
+  private List<ImmutableSet<Path>> compiledBatches;
+
+  @Before
+  public void setUp() throws InterruptedException, IOException {
+    filesystem = new DefaultProjectFilesystemFactory().createProjectFilesystem(tmp.getRoot());
+    javac = ToolProvider.getSystemJavaCompiler();
+    depJar = tmp.getRoot().resolve("dep.jar");
+    writeDependency("public static int get() { return 1; }");
+
+    write(A, "package a; public class A { public int a() { return dep.Dep.get(); } }");
+    write(B, "package a; public class B { int b() { return new A().a(); } }");
+    write(C, "package a; public class C { class Inner {} }");
+  }
+
+  @Test
+  public void firstCompilationCompilesEverything() throws InterruptedException, IOException {
+    assertEquals(0, build());
+    assertEquals(ImmutableList.of(ImmutableSet.of(A, B, C)), compiledBatches);
+    assertTrue(filesystem.exists(OUTPUT.resolve("a/C$Inner.class")));
+    assertTrue(
+        filesystem
+            .readFileIfItExists(Paths.get("used-classes.json"))
+            .get()
+            .contains("dep/Dep.class"));
+  }
+
+  @Test
+  public void unchangedSourcesAreRestored() throws InterruptedException, IOException {
+    build();
+    assertEquals(0, build());
+    assertEquals(ImmutableList.of(), compiledBatches);
+    for (String className : ImmutableList.of("A", "B", "C", "C$Inner")) {
+      assertTrue(filesystem.exists(OUTPUT.resolve("a/" + className + ".class")));
+    }
+    // The classes used by the restored classes are still recorded.
+    assertTrue(
+        filesystem
+            .readFileIfItExists(Paths.get("used-classes.json"))
+            .get()
+            .contains("dep/Dep.class"));
+  }
+
+  @Test
+  public void changesToMethodBodiesOnlyRecompileTheChangedSource()
+      throws InterruptedException, IOException {
+    build();
+    write(A, "package a; public class A { public int a() { return dep.Dep.get() + 1; } }");
+    assertEquals(0, build());
+    assertEquals(ImmutableList.of(ImmutableSet.of(A)), compiledBatches);
+  }
+
+  @Test
+  public void abiChangesRecompileTheDependents() throws InterruptedException, IOException {
+    build();
+    write(
+        A,
+        "package a; public class A { public int a() { return 1; } public void added() {} }");
+    assertEquals(0, build());
+    assertEquals(ImmutableList.of(ImmutableSet.of(A), ImmutableSet.of(B)), compiledBatches);
+  }
+
+  @Test
+  public void removedClassesRecompileTheDependents() throws InterruptedException, IOException {
+    write(B, "package a; public class B { C.Inner inner; }");
+    build();
+    write(C, "package a; public class C {}");
+    // B doesn't compile without C.Inner, which the compilation must notice.
+    assertEquals(1, build());
+    assertEquals(ImmutableList.of(ImmutableSet.of(C), ImmutableSet.of(B)), compiledBatches);
+    assertFalse(filesystem.exists(OUTPUT.resolve("a/C$Inner.class")));
+  }
+
+  @Test
+  public void constantChangesRecompileEverything() throws InterruptedException, IOException {
+    build();
+    write(C, "package a; public class C { public static final int VALUE = 2; class Inner {} }");
+    assertEquals(0, build());
+    assertEquals(
+        ImmutableList.of(ImmutableSet.of(C), ImmutableSet.of(A, B, C)), compiledBatches);
+  }
+
+  @Test
+  public void classpathChangesRecompileTheSourcesUsingThem()
+      throws InterruptedException, IOException {
+    build();
+    writeDependency("public static int get() { return 1; } public static void added() {}");
+    assertEquals(0, build());
+    assertEquals(ImmutableList.of(ImmutableSet.of(A)), compiledBatches);
+  }
+
+  @Test
+  public void removedSourcesAreRemovedFromTheOutput() throws InterruptedException, IOException {
+    build();
+    filesystem.deleteFileAtPath(C);
+    assertEquals(0, build(A, B));
+    assertEquals(ImmutableList.of(), compiledBatches);
+    assertFalse(filesystem.exists(OUTPUT.resolve("a/C.class")));
+    assertTrue(filesystem.exists(OUTPUT.resolve("a/B.class")));
+  }
+
+  @Test
+  public void addedClassesRecompileTheSourcesTheyMayShadowAClassFor()
+      throws InterruptedException, IOException {
+    write(A, "package a; import dep.*; public class A { public int a() { return Dep.get(); } }");
+    build();
+    // a.Dep shadows the dep.Dep which A got from its import on demand.
+    Path shadowing = Paths.get("src/a/Dep.java");
+    write(shadowing, "package a; public class Dep { public static int get() { return 2; } }");
+    assertEquals(0, build(A, B, C, shadowing));
+    assertEquals(
+        ImmutableList.of(ImmutableSet.of(shadowing), ImmutableSet.of(A, B, C)), compiledBatches);
+    assertTrue(
+        ClassFileSummary.of(Files.readAllBytes(filesystem.resolve(OUTPUT.resolve("a/A.class"))))
+            .getReferencedClasses()
+            .contains("a/Dep"));
+  }
+
+  @Test
+  public void addedClassesInOtherPackagesOnlyRecompileTheSourcesUsingTheirName()
+      throws InterruptedException, IOException {
+    build();
+    Path added = Paths.get("src/b/Other.java");
+    write(added, "package b; public class Other {}");
+    assertEquals(0, build(A, B, C, added));
+    assertEquals(ImmutableList.of(ImmutableSet.of(added)), compiledBatches);
+  }
+
+  private int build(Path... sources) throws InterruptedException, IOException {
+    // Like the steps running before javac, which clean the output directory.
+    filesystem.deleteRecursivelyIfExists(OUTPUT);
+    filesystem.mkdirs(OUTPUT);
+    compiledBatches = new ArrayList<>();
+    DefaultClassUsageFileWriter classUsageFileWriter =
+        new DefaultClassUsageFileWriter(Paths.get("used-classes.json"));
+    ImmutableSortedSet<Path> classpath = ImmutableSortedSet.of(depJar);
+    return new IncrementalJavacCompilation(
+            filesystem,
+            STATE,
+            OUTPUT,
+            sources.length == 0
+                ? ImmutableSortedSet.of(A, B, C)
+                : ImmutableSortedSet.copyOf(sources),
+            classpath,
+            ImmutableList.of("-classpath", depJar.toString()),
+            classUsageFileWriter)
+        .compile(
+            (batch, classpathEntries) -> {
+              compiledBatches.add(ImmutableSet.copyOf(batch));
+              try {
+                return compile(
+                        classUsageFileWriter.wrapFileManager(
+                            javac.getStandardFileManager(null, null, null)),
+                        classpathEntries,
+                        filesystem.resolve(OUTPUT),
+                        batch
+                            .stream()
+                            .map(filesystem::resolve)
+                            .collect(MoreCollectors.toImmutableList()))
+                    ? 0
+                    : 1;
+              } catch (IOException e) {
+                throw new RuntimeException(e);
+              }
+            },
+            TestCellPathResolver.get(filesystem));
+  }
+
+  private boolean compile(
+      StandardJavaFileManager fileManager,
+      Iterable<Path> classpath,
+      Path outputDirectory,
+      ImmutableList<Path> sources)
+      throws IOException {
+    try {
+      List<File> classpathFiles = new ArrayList<>();
+      classpath.forEach(path -> classpathFiles.add(path.toFile()));
+      fileManager.setLocation(StandardLocation.CLASS_PATH, classpathFiles);
+      fileManager.setLocation(
+          StandardLocation.CLASS_OUTPUT, ImmutableList.of(outputDirectory.toFile()));
+      List<File> sourceFiles = new ArrayList<>();
+      sources.forEach(path -> sourceFiles.add(path.toFile()));
+      return javac
+          .getTask(
+              null,
+              fileManager,
+              null,
+              ImmutableList.of("-g"),
+              null,
+              fileManager.getJavaFileObjectsFromFiles(sourceFiles))
+          .call();
+    } finally {
+      fileManager.close();
+    }
+  }
+
+  private void writeDependency(String members) throws IOException {
+    Path sourceDirectory = Files.createTempDirectory(tmp.getRoot(), "dep");
+    Path source = sourceDirectory.resolve("Dep.java");
+    Files.write(
+        source, ("package dep; public class Dep { " + members + " }").getBytes(Charsets.UTF_8));
+    assertTrue(
+        compile(
+            javac.getStandardFileManager(null, null, null),
+            ImmutableList.of(),
+            sourceDirectory,
+            ImmutableList.of(source)));
+    try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(depJar))) {
+      out.putNextEntry(new ZipEntry("dep/Dep.class"));
+      out.write(Files.readAllBytes(sourceDirectory.resolve("dep/Dep.class")));
+    }
+  }
+
+  private void write(Path source, String contents) throws IOException {
+    filesystem.createParentDirs(source);
+    filesystem.writeContentsToPath(contents, source);
+  }
+}
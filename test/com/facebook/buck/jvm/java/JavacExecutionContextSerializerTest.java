@@ -16,6 +16,7 @@
 
 package com.facebook.buck.jvm.java;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 
 import com.facebook.buck.event.BuckEventBusForTests;
@@ -100,7 +101,8 @@ public class JavacExecutionContextSerializerTest {
             environment,
             processExecutor,
             pathToInputs,
-            Optional.of(directToJarParameters));
+            Optional.of(directToJarParameters),
+            /* shouldIndexClasspathJars */ false);
     Map<String, Object> data = JavacExecutionContextSerializer.serialize(input);
     JavacExecutionContext output =
         JavacExecutionContextSerializer.deserialize(
@@ -146,6 +148,8 @@ public class JavacExecutionContextSerializerTest {
 
     assertThat(output.getAbsolutePathsForInputs(), Matchers.equalToObject(pathToInputs));
 
+    assertFalse(output.shouldIndexClasspathJars());
+
     assertThat(
         output.getDirectToJarParameters().get().getJarPath(),
         Matchers.equalToObject(directToJarParameters.getJarPath()));
@@ -131,7 +131,8 @@ public class Jsr199JavacIntegrationTest {
             executionContext.getEnvironment(),
             executionContext.getProcessExecutor(),
             ImmutableList.of(),
-            Optional.empty());
+            Optional.empty(),
+            /* shouldIndexClasspathJars */ true);
 
     int exitCode =
         javac
@@ -184,7 +185,8 @@ public class Jsr199JavacIntegrationTest {
             executionContext.getEnvironment(),
             executionContext.getProcessExecutor(),
             ImmutableList.of(),
-            Optional.empty());
+            Optional.empty(),
+            /* shouldIndexClasspathJars */ true);
 
     int exitCode =
         javac
@@ -284,7 +286,8 @@ public class Jsr199JavacIntegrationTest {
             executionContext.getEnvironment(),
             executionContext.getProcessExecutor(),
             ImmutableList.of(fakeJavacJar),
-            Optional.empty());
+            Optional.empty(),
+            /* shouldIndexClasspathJars */ true);
 
     boolean caught = false;
 
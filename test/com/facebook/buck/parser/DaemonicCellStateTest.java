@@ -23,11 +23,13 @@ import com.facebook.buck.config.BuckConfig;
 import com.facebook.buck.config.FakeBuckConfig;
 import com.facebook.buck.io.file.MorePaths;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.jvm.java.JavaLibraryBuilder;
 import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.BuildTargetException;
 import com.facebook.buck.model.BuildTargetFactory;
 import com.facebook.buck.parser.PipelineNodeCache.Cache;
 import com.facebook.buck.rules.Cell;
+import com.facebook.buck.rules.TargetNode;
 import com.facebook.buck.rules.TestCellBuilder;
 import com.facebook.buck.testutil.FakeProjectFilesystem;
 import com.google.common.collect.ImmutableMap;
@@ -35,6 +37,7 @@ import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 import org.junit.Before;
 import org.junit.Test;
@@ -128,4 +131,36 @@ public class DaemonicCellStateTest {
         Optional.empty(),
         cache.lookupComputedNode(childCell, target));
   }
+
+  @Test
+  public void testTargetNodeIndexFollowsCachedNodes()
+      throws BuildTargetException, IOException, InterruptedException {
+    @SuppressWarnings("unchecked")
+    Cache<BuildTarget, TargetNode<?, ?>> cache =
+        (Cache<BuildTarget, TargetNode<?, ?>>)
+            (Cache<?, ?>) state.getOrCreateCache(TargetNode.class);
+    BuildTarget target = BuildTargetFactory.newInstance(filesystem.getRootPath(), "//path/to:lib");
+    BuildTarget dep = BuildTargetFactory.newInstance(filesystem.getRootPath(), "//other:dep");
+    TargetNode<?, ?> node =
+        JavaLibraryBuilder.createBuilder(target)
+            .addDep(dep)
+            .addSrc(Paths.get("path/to/Lib.java"))
+            .addSrc(Paths.get("path/to/generated"))
+            .build(filesystem);
+
+    populateDummyRawNode(state, target);
+    cache.putComputedNodeIfNotPresent(rootCell, target, node);
+    assertEquals(ImmutableSet.of(target), state.getReverseDeps(dep));
+    assertEquals(ImmutableSet.of(), state.getReverseDeps(target));
+    assertEquals(ImmutableSet.of(target), state.getInputOwners(Paths.get("path/to/Lib.java")));
+    assertEquals(
+        "Inputs also own the files in them",
+        ImmutableSet.of(target),
+        state.getInputOwners(Paths.get("path/to/generated/Gen.java")));
+    assertEquals(ImmutableSet.of(), state.getInputOwners(Paths.get("path/to/Other.java")));
+
+    state.invalidatePath(filesystem.resolve("path/to/BUCK"));
+    assertEquals(ImmutableSet.of(), state.getReverseDeps(dep));
+    assertEquals(ImmutableSet.of(), state.getInputOwners(Paths.get("path/to/Lib.java")));
+  }
 }
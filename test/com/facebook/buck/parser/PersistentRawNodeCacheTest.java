@@ -0,0 +1,218 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.facebook.buck.config.FakeBuckConfig;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.rules.Cell;
+import com.facebook.buck.rules.TestCellBuilder;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class PersistentRawNodeCacheTest {
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+  @Rule public TemporaryPaths cacheDir = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private PersistentRawNodeCache cache;
+  private Path buildFile;
+  private Path include;
+
+  @Before
+  public void setUp() throws Exception {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    cache = new PersistentRawNodeCache(cacheDir.getRoot());
+    buildFile = filesystem.resolve("foo/BUCK");
+    include = filesystem.resolve("DEFS");
+    filesystem.mkdirs(Paths.get("foo"));
+    filesystem.writeContentsToPath("include_defs('//DEFS')\nfoo_rule()", Paths.get("foo/BUCK"));
+    filesystem.writeContentsToPath("def foo_rule(): pass", Paths.get("DEFS"));
+  }
+
+  private Cell createCell(
+      ImmutableMap<String, ImmutableMap<String, String>> sections,
+      ImmutableMap<String, String> environment)
+      throws Exception {
+    return new TestCellBuilder()
+        .setFilesystem(filesystem)
+        .setBuckConfig(
+            FakeBuckConfig.builder()
+                .setFilesystem(filesystem)
+                .setSections(sections)
+                .setEnvironment(environment)
+                .build())
+        .build();
+  }
+
+  private ImmutableSet<Map<String, Object>> createRawNodes(
+      Map<String, ? extends Map<String, String>> configs, Map<String, String> env) {
+    return ImmutableSet.of(
+        ImmutableMap.of("name", "foo", "buck.base_path", "foo", "srcs", ImmutableList.of("A.java")),
+        ImmutableMap.of(
+            "__includes", ImmutableList.of(buildFile.toString(), include.toString())),
+        ImmutableMap.of("__configs", configs),
+        ImmutableMap.of("__env", env));
+  }
+
+  private Optional<ImmutableSet<Map<String, Object>>> storeAndLookUp(
+      Cell cell, ImmutableSet<Map<String, Object>> rawNodes, Cell lookupCell) {
+    HashCode key = cache.computeKey(cell, buildFile).get();
+    cache.store(cell, buildFile, key, rawNodes);
+    return cache.computeKey(lookupCell, buildFile).flatMap(k -> cache.lookup(lookupCell, k));
+  }
+
+  @Test
+  public void storedRawNodesAreReturnedIfNothingChanged() throws Exception {
+    Cell cell =
+        createCell(
+            ImmutableMap.of("foo", ImmutableMap.of("bar", "baz")),
+            ImmutableMap.of("SOME_VAR", "value"));
+    ImmutableSet<Map<String, Object>> rawNodes =
+        createRawNodes(
+            ImmutableMap.of("foo", ImmutableMap.of("bar", "baz")),
+            ImmutableMap.of("SOME_VAR", "value"));
+
+    assertEquals(Optional.of(rawNodes), storeAndLookUp(cell, rawNodes, cell));
+    assertEquals(1, cache.getHitCount());
+  }
+
+  @Test
+  public void changedIncludeInvalidatesEntry() throws Exception {
+    Cell cell = createCell(ImmutableMap.of(), ImmutableMap.of());
+    ImmutableSet<Map<String, Object>> rawNodes =
+        createRawNodes(ImmutableMap.of(), ImmutableMap.of());
+    HashCode key = cache.computeKey(cell, buildFile).get();
+    cache.store(cell, buildFile, key, rawNodes);
+
+    filesystem.writeContentsToPath("def foo_rule(): fail()", Paths.get("DEFS"));
+    assertFalse(cache.lookup(cell, key).isPresent());
+  }
+
+  @Test
+  public void changedBuildFileUsesDifferentKey() throws Exception {
+    Cell cell = createCell(ImmutableMap.of(), ImmutableMap.of());
+    HashCode key = cache.computeKey(cell, buildFile).get();
+    filesystem.writeContentsToPath("foo_rule()", Paths.get("foo/BUCK"));
+    assertFalse(key.equals(cache.computeKey(cell, buildFile).get()));
+  }
+
+  @Test
+  public void changedConfigValueInvalidatesEntry() throws Exception {
+    ImmutableMap<String, ImmutableMap<String, String>> configs =
+        ImmutableMap.of("foo", ImmutableMap.of("bar", "baz"));
+    ImmutableMap<String, ImmutableMap<String, String>> changedConfigs =
+        ImmutableMap.of("foo", ImmutableMap.of("bar", "qux"));
+    ImmutableSet<Map<String, Object>> rawNodes = createRawNodes(configs, ImmutableMap.of());
+    assertFalse(
+        storeAndLookUp(
+                createCell(configs, ImmutableMap.of()),
+                rawNodes,
+                createCell(changedConfigs, ImmutableMap.of()))
+            .isPresent());
+  }
+
+  @Test
+  public void changedEnvironmentVariableInvalidatesEntry() throws Exception {
+    ImmutableSet<Map<String, Object>> rawNodes =
+        createRawNodes(ImmutableMap.of(), ImmutableMap.of("SOME_VAR", "value"));
+    assertFalse(
+        storeAndLookUp(
+                createCell(ImmutableMap.of(), ImmutableMap.of("SOME_VAR", "value")),
+                rawNodes,
+                createCell(ImmutableMap.of(), ImmutableMap.of("SOME_VAR", "other value")))
+            .isPresent());
+  }
+
+  @Test
+  public void addedFileInvalidatesEntryOfBuildFileUsingGlobs() throws Exception {
+    filesystem.writeContentsToPath("foo_rule(srcs=glob(['*.java']))", Paths.get("foo/BUCK"));
+    Cell cell = createCell(ImmutableMap.of(), ImmutableMap.of());
+    ImmutableSet<Map<String, Object>> rawNodes =
+        createRawNodes(ImmutableMap.of(), ImmutableMap.of());
+    HashCode key = cache.computeKey(cell, buildFile).get();
+    cache.store(cell, buildFile, key, rawNodes);
+    assertEquals(Optional.of(rawNodes), cache.lookup(cell, key));
+
+    filesystem.writeContentsToPath("class B {}", Paths.get("foo/B.java"));
+    assertFalse(cache.lookup(cell, key).isPresent());
+  }
+
+  @Test
+  public void packageListingStopsAtSubpackages() throws Exception {
+    filesystem.writeContentsToPath("foo_rule(srcs=glob(['**/*.java']))", Paths.get("foo/BUCK"));
+    filesystem.mkdirs(Paths.get("foo/sub"));
+    filesystem.writeContentsToPath("foo_rule()", Paths.get("foo/sub/BUCK"));
+    filesystem.mkdirs(Paths.get("foo/dir"));
+    Cell cell = createCell(ImmutableMap.of(), ImmutableMap.of());
+    ImmutableSet<Map<String, Object>> rawNodes =
+        createRawNodes(ImmutableMap.of(), ImmutableMap.of());
+    HashCode key = cache.computeKey(cell, buildFile).get();
+    cache.store(cell, buildFile, key, rawNodes);
+
+    // Globs never match files in subpackages.
+    filesystem.writeContentsToPath("class B {}", Paths.get("foo/sub/B.java"));
+    assertEquals(Optional.of(rawNodes), cache.lookup(cell, key));
+
+    filesystem.writeContentsToPath("class C {}", Paths.get("foo/dir/C.java"));
+    assertFalse(cache.lookup(cell, key).isPresent());
+  }
+
+  @Test
+  public void addedFileDoesNotInvalidateEntryOfBuildFileOnlyMentioningGlobsInComments()
+      throws Exception {
+    filesystem.writeContentsToPath(
+        "include_defs('//DEFS')\n# Don't use glob() here.\nfoo_rule(globals=1)",
+        Paths.get("foo/BUCK"));
+    Cell cell = createCell(ImmutableMap.of(), ImmutableMap.of());
+    ImmutableSet<Map<String, Object>> rawNodes =
+        createRawNodes(ImmutableMap.of(), ImmutableMap.of());
+    HashCode key = cache.computeKey(cell, buildFile).get();
+    cache.store(cell, buildFile, key, rawNodes);
+
+    filesystem.writeContentsToPath("class B {}", Paths.get("foo/B.java"));
+    assertEquals(Optional.of(rawNodes), cache.lookup(cell, key));
+  }
+
+  @Test
+  public void addedFileInvalidatesEntryOfBuildFileUsingSubdirGlobs() throws Exception {
+    filesystem.writeContentsToPath(
+        "foo_rule(srcs=subdir_glob([('a', '*.java')]))", Paths.get("foo/BUCK"));
+    Cell cell = createCell(ImmutableMap.of(), ImmutableMap.of());
+    ImmutableSet<Map<String, Object>> rawNodes =
+        createRawNodes(ImmutableMap.of(), ImmutableMap.of());
+    HashCode key = cache.computeKey(cell, buildFile).get();
+    cache.store(cell, buildFile, key, rawNodes);
+
+    filesystem.writeContentsToPath("class B {}", Paths.get("foo/B.java"));
+    assertFalse(cache.lookup(cell, key).isPresent());
+  }
+}
@@ -19,6 +19,7 @@ package com.facebook.buck.rules;
 import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactContainerFormat;
 import com.facebook.buck.artifact_cache.DirArtifactCacheTestUtil;
 import com.facebook.buck.artifact_cache.TestArtifactCaches;
 import com.facebook.buck.event.DefaultBuckEventBus;
@@ -69,6 +70,7 @@ public class BuildInfoRecorderIntegrationTest {
         new FilesystemBuildInfoStore(filesystem),
         new DefaultClock(),
         new BuildId(),
-        ImmutableMap.of());
+        ImmutableMap.of(),
+        ArtifactContainerFormat.ZIP);
   }
 }
@@ -24,6 +24,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactContainerFormat;
 import com.facebook.buck.artifact_cache.ArtifactInfo;
 import com.facebook.buck.artifact_cache.CacheReadMode;
 import com.facebook.buck.artifact_cache.NoopArtifactCache;
@@ -307,6 +308,7 @@ public class BuildInfoRecorderTest {
         new FilesystemBuildInfoStore(filesystem),
         new DefaultClock(),
         new BuildId(),
-        ImmutableMap.of());
+        ImmutableMap.of(),
+        ArtifactContainerFormat.ZIP);
   }
 }
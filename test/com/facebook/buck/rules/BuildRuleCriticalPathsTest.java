@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.testutil.FakeProjectFilesystem;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BuildRuleCriticalPathsTest {
+
+  private BuildRuleResolver resolver;
+  private BuildRuleCriticalPaths criticalPaths;
+
+  @Before
+  public void setUp() throws IOException {
+    resolver =
+        new SingleThreadedBuildRuleResolver(
+            TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer());
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    BuildRuleDurationHistory.update(
+        filesystem,
+        ImmutableMap.<String, BuildRuleDurationHistory.Entry>builder()
+            .put("//:gen", new BuildRuleDurationHistory.Entry("fake_build_rule", 10))
+            .put("//:lib", new BuildRuleDurationHistory.Entry("fake_build_rule", 100))
+            .put("//:leaf", new BuildRuleDurationHistory.Entry("fake_build_rule", 5))
+            .put("//:app", new BuildRuleDurationHistory.Entry("fake_build_rule", 1000))
+            .put("//:tool", new BuildRuleDurationHistory.Entry("fake_build_rule", 1))
+            .put("//:test", new BuildRuleDurationHistory.Entry("fake_build_rule", 2000))
+            .build());
+    criticalPaths =
+        new BuildRuleCriticalPaths(
+            new RuleDepsCache(resolver),
+            new BuildRuleDurationEstimator(BuildRuleDurationHistory.load(filesystem)));
+  }
+
+  @Test
+  public void criticalPathIncludesTheLongestChainOfDependents() {
+    BuildRule gen = addRule(new FakeBuildRule("//:gen"));
+    BuildRule lib = addRule(new FakeBuildRule("//:lib", gen));
+    BuildRule leaf = addRule(new FakeBuildRule("//:leaf"));
+    BuildRule app = addRule(new FakeBuildRule("//:app", lib, leaf, gen));
+
+    criticalPaths.addTopLevelRule(app);
+
+    assertEquals(1000, criticalPaths.getCriticalPathWallMillis(app));
+    assertEquals(1100, criticalPaths.getCriticalPathWallMillis(lib));
+    assertEquals(1005, criticalPaths.getCriticalPathWallMillis(leaf));
+    // The path through lib is longer than the direct edge from app.
+    assertEquals(1110, criticalPaths.getCriticalPathWallMillis(gen));
+  }
+
+  @Test
+  public void rulesNeededBySeveralTopLevelRulesKeepTheirLongestPath() {
+    BuildRule tool = addRule(new FakeBuildRule("//:tool"));
+    BuildRule lib = addRule(new FakeBuildRule("//:lib", tool));
+    BuildRule app = addRule(new FakeBuildRule("//:app", lib));
+    BuildRule test = addRule(new FakeBuildRule("//:test", tool));
+
+    criticalPaths.addTopLevelRule(app);
+    assertEquals(1101, criticalPaths.getCriticalPathWallMillis(tool));
+    criticalPaths.addTopLevelRule(test);
+    assertEquals(2001, criticalPaths.getCriticalPathWallMillis(tool));
+    criticalPaths.addTopLevelRule(lib);
+    assertEquals(1100, criticalPaths.getCriticalPathWallMillis(lib));
+
+    assertEquals(0, criticalPaths.getCriticalPathWallMillis(new FakeBuildRule("//:other")));
+  }
+
+  private BuildRule addRule(BuildRule rule) {
+    resolver.addToIndex(rule);
+    return rule;
+  }
+}
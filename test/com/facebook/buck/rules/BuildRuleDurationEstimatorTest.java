@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.model.BuildTargetFactory;
+import com.facebook.buck.testutil.FakeProjectFilesystem;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.Test;
+
+public class BuildRuleDurationEstimatorTest {
+
+  @Test
+  public void historyIsPersistedAndAveraged() throws IOException {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    BuildRuleDurationHistory.update(
+        filesystem,
+        ImmutableMap.of(
+            "//:a", new BuildRuleDurationHistory.Entry("fake_build_rule", 100),
+            "//:b", new BuildRuleDurationHistory.Entry("fake_build_rule", 300)));
+    BuildRuleDurationHistory.update(
+        filesystem,
+        ImmutableMap.of("//:a", new BuildRuleDurationHistory.Entry("fake_build_rule", 200)));
+
+    BuildRuleDurationHistory history = BuildRuleDurationHistory.load(filesystem);
+    assertEquals(150, history.getWallMillis("//:a").getAsLong());
+    assertEquals(300, history.getWallMillis("//:b").getAsLong());
+    assertEquals(225, history.getAverageWallMillis("fake_build_rule").getAsLong());
+  }
+
+  @Test
+  public void rulesNotBuiltForTheLongestTimeAreDroppedFirst() throws IOException {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    BuildRuleDurationHistory.update(
+        filesystem,
+        ImmutableMap.of(
+            "//:a", new BuildRuleDurationHistory.Entry("fake_build_rule", 100),
+            "//:b", new BuildRuleDurationHistory.Entry("fake_build_rule", 200)),
+        2);
+    BuildRuleDurationHistory.update(
+        filesystem,
+        ImmutableMap.of(
+            "//:a", new BuildRuleDurationHistory.Entry("fake_build_rule", 100),
+            "//:c", new BuildRuleDurationHistory.Entry("fake_build_rule", 300)),
+        2);
+
+    BuildRuleDurationHistory history = BuildRuleDurationHistory.load(filesystem);
+    assertTrue(history.getWallMillis("//:a").isPresent());
+    assertFalse(history.getWallMillis("//:b").isPresent());
+    assertTrue(history.getWallMillis("//:c").isPresent());
+    Path historyFile = filesystem.getBuckPaths().getBuildRuleDurationsFile();
+    assertEquals(
+        ImmutableList.of(historyFile),
+        ImmutableList.copyOf(filesystem.getDirectoryContents(historyFile.getParent())));
+  }
+
+  @Test
+  public void unreadableHistoryIsIgnored() throws IOException {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    Path historyFile = filesystem.getBuckPaths().getBuildRuleDurationsFile();
+    filesystem.createParentDirs(historyFile);
+    filesystem.writeContentsToPath("garbage", historyFile);
+
+    BuildRuleDurationHistory history = BuildRuleDurationHistory.load(filesystem);
+    assertFalse(history.getWallMillis("garbage").isPresent());
+  }
+
+  @Test
+  public void estimatesFromTheRuleThenItsTypeThenTheDefault() throws IOException {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    BuildRuleDurationHistory.update(
+        filesystem,
+        ImmutableMap.of("//:known", new BuildRuleDurationHistory.Entry("fake_build_rule", 42)));
+    BuildRuleDurationEstimator estimator =
+        new BuildRuleDurationEstimator(BuildRuleDurationHistory.load(filesystem));
+
+    assertEquals(42, estimator.estimateWallMillis(new FakeBuildRule("//:known")));
+    assertEquals(42, estimator.estimateWallMillis(new FakeBuildRule("//:unknown")));
+
+    BuildRuleDurationEstimator emptyEstimator =
+        new BuildRuleDurationEstimator(BuildRuleDurationHistory.empty());
+    assertEquals(
+        BuildRuleDurationEstimator.DEFAULT_WALL_MILLIS,
+        emptyEstimator.estimateWallMillis(new FakeBuildRule("//:known")));
+  }
+
+  @Test
+  public void estimatesKnownExpensiveTypesAboveTheDefault() {
+    BuildRuleDurationEstimator estimator =
+        new BuildRuleDurationEstimator(BuildRuleDurationHistory.empty());
+    FakeBuildRule rule =
+        new FakeBuildRule(BuildTargetFactory.newInstance("//:lib")) {
+          @Override
+          public String getType() {
+            return "default_java_library";
+          }
+        };
+    assertEquals(5_000, estimator.estimateWallMillis(rule));
+  }
+}
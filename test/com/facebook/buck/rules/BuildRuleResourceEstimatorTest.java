@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.testutil.FakeProjectFilesystem;
+import com.facebook.buck.util.concurrent.ResourceAmounts;
+import com.facebook.buck.util.concurrent.ResourceAmountsEstimator;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.util.Optional;
+import org.junit.Test;
+
+public class BuildRuleResourceEstimatorTest {
+
+  private static final long MB = 1024 * 1024;
+
+  @Test
+  public void historyIsPersistedAndAveragedButKeepsRisingPeakMemory() throws IOException {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    BuildRuleResourceHistory.update(
+        filesystem,
+        ImmutableMap.of(
+            "//:a", new BuildRuleResourceHistory.Entry("fake_build_rule", 100, 100, 100, 100),
+            "//:b", new BuildRuleResourceHistory.Entry("fake_build_rule", 300, 300, 300, 300)));
+    BuildRuleResourceHistory.update(
+        filesystem,
+        ImmutableMap.of(
+            "//:a", new BuildRuleResourceHistory.Entry("fake_build_rule", 200, 200, 400, 200)));
+
+    BuildRuleResourceHistory history = BuildRuleResourceHistory.load(filesystem);
+    BuildRuleResourceHistory.Entry a = history.getEntry("//:a").get();
+    assertEquals(150, a.getCpuMillis());
+    assertEquals(150, a.getWallMillis());
+    assertEquals(400, a.getPeakMemoryBytes());
+    assertEquals(150, a.getIoBytes());
+    BuildRuleResourceHistory.Entry average = history.getAverageEntry("fake_build_rule").get();
+    assertEquals(350, average.getPeakMemoryBytes());
+    assertFalse(history.getEntry("//:c").isPresent());
+  }
+
+  @Test
+  public void measurementsAreConvertedToResourceAmountsWithASafetyMargin() throws IOException {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    BuildRuleResourceHistory.update(
+        filesystem,
+        ImmutableMap.of(
+            "//:link",
+            // Four cores busy for ten seconds, peaking at 1000 MB and moving 800 MB.
+            new BuildRuleResourceHistory.Entry(
+                "fake_build_rule", 40_000, 10_000, 1000 * MB, 800 * MB)));
+    BuildRuleResourceEstimator estimator =
+        new BuildRuleResourceEstimator(BuildRuleResourceHistory.load(filesystem), 50);
+
+    ResourceAmounts amounts =
+        estimator.estimateAmountsForTarget(new FakeBuildRule("//:link"), 2).get();
+    assertEquals(4, amounts.getCpu());
+    assertEquals(
+        (int) Math.ceil(1500.0 * MB / ResourceAmountsEstimator.MEMORY_UNIT_BYTES),
+        amounts.getMemory());
+    assertEquals(
+        (int) Math.ceil(120.0 * MB / ResourceAmountsEstimator.DISK_IO_UNIT_BYTES_PER_SECOND),
+        amounts.getDiskIO());
+    assertEquals(2, amounts.getNetworkIO());
+  }
+
+  @Test
+  public void measuredTargetsTakePrecedenceOverConfiguredTypesOverMeasuredTypes()
+      throws IOException {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    BuildRuleResourceHistory.update(
+        filesystem,
+        ImmutableMap.of(
+            "//:known",
+            new BuildRuleResourceHistory.Entry("fake_build_rule", 3000, 1000, 50 * MB, 0)));
+    BuildRuleResourceEstimator estimator =
+        new BuildRuleResourceEstimator(BuildRuleResourceHistory.load(filesystem), 0);
+    ResourceAmounts measured = ResourceAmounts.of(3, 1, 0, 0);
+    ResourceAmounts configured = ResourceAmounts.of(2, 7, 0, 0);
+    ResourceAmounts defaults = ResourceAmounts.of(1, 1, 0, 0);
+
+    ResourceAwareSchedulingInfo measuredOnly =
+        ResourceAwareSchedulingInfo.of(true, defaults, ImmutableMap.of(), Optional.of(estimator));
+    assertEquals(measured, measuredOnly.getResourceAmountsForRule(new FakeBuildRule("//:known")));
+    assertEquals(
+        measured, measuredOnly.getResourceAmountsForRule(new FakeBuildRule("//:unknown")));
+
+    ResourceAwareSchedulingInfo configuredType =
+        measuredOnly.withAmountsPerRuleType(ImmutableMap.of("fake_build_rule", configured));
+    assertEquals(measured, configuredType.getResourceAmountsForRule(new FakeBuildRule("//:known")));
+    assertEquals(
+        configured, configuredType.getResourceAmountsForRule(new FakeBuildRule("//:unknown")));
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactInfo;
+import com.facebook.buck.artifact_cache.CacheReadMode;
+import com.facebook.buck.artifact_cache.CacheResult;
+import com.facebook.buck.io.file.BorrowablePath;
+import com.facebook.buck.io.file.LazyPath;
+import com.facebook.buck.model.BuildId;
+import com.facebook.buck.model.BuildTargetFactory;
+import com.facebook.buck.step.ExecutionContext;
+import com.facebook.buck.step.TestExecutionContext;
+import com.facebook.buck.timing.IncrementingFakeClock;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Measures how long it takes {@link CachingBuildEngine} to get from the start of a build to the
+ * first artifact cache check on a synthetic graph that is both wide and deep. In shallow mode the
+ * first cache check is for a top-level rule, so this is dominated by scheduling and computing the
+ * rule keys of the whole transitive closure.
+ */
+public class CachingBuildEngineBenchmark {
+  @Param({"10", "100", "1000"})
+  private int width = 10;
+
+  @Param({"10", "100"})
+  private int depth = 10;
+
+  @Param({"1", "8", "32"})
+  private int threadCount = 4;
+
+  private BuildRuleResolver resolver;
+  private ImmutableList<BuildRule> topLevelRules;
+
+  @Before
+  public void setUp() throws Exception {
+    setUpBenchmark();
+  }
+
+  @BeforeExperiment
+  public void setUpBenchmark() throws Exception {
+    resolver =
+        new SingleThreadedBuildRuleResolver(
+            TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer());
+
+    // Each rule depends on two rules of the layer below it, so every top-level rule transitively
+    // depends on a large part of the graph and rule key computations overlap heavily.
+    List<BuildRule> previousLayer = new ArrayList<>();
+    for (int d = 0; d < depth; d++) {
+      List<BuildRule> layer = new ArrayList<>(width);
+      for (int w = 0; w < width; w++) {
+        ImmutableSortedSet<BuildRule> deps =
+            previousLayer.isEmpty()
+                ? ImmutableSortedSet.of()
+                : ImmutableSortedSet.of(
+                    previousLayer.get(w), previousLayer.get((w + 1) % previousLayer.size()));
+        BuildRule rule =
+            new FakeBuildRule(
+                BuildTargetFactory.newInstance(String.format("//layer%d:rule%d", d, w)), deps);
+        resolver.addToIndex(rule);
+        layer.add(rule);
+      }
+      previousLayer = layer;
+    }
+    topLevelRules = ImmutableList.copyOf(previousLayer);
+  }
+
+  @Test
+  public void timeToFirstCacheCheckPerformance() throws Exception {
+    timeToFirstCacheCheck(1);
+  }
+
+  @Benchmark
+  public void timeToFirstCacheCheck(int reps) throws Exception {
+    for (int i = 0; i < reps; i++) {
+      FirstFetchRecordingArtifactCache artifactCache = new FirstFetchRecordingArtifactCache();
+      ListeningExecutorService executor =
+          MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(threadCount));
+      try (CachingBuildEngine engine =
+          new CachingBuildEngineFactory(resolver, new BuildInfoStoreManager())
+              .setExecutorService(executor)
+              .build()) {
+        BuildEngineBuildContext buildContext =
+            BuildEngineBuildContext.builder()
+                .setBuildContext(FakeBuildContext.NOOP_CONTEXT)
+                .setArtifactCache(artifactCache)
+                .setBuildId(new BuildId())
+                .setClock(new IncrementingFakeClock())
+                .build();
+        ExecutionContext executionContext = TestExecutionContext.newInstance();
+        for (BuildRule rule : topLevelRules) {
+          engine.build(buildContext, executionContext, rule);
+        }
+        assertTrue(
+            "Timed out waiting for the first cache check.",
+            artifactCache.firstFetch.await(5, TimeUnit.MINUTES));
+      } finally {
+        // We only care about the time to the first cache check, so abandon the rest of the build.
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  private static class FirstFetchRecordingArtifactCache implements ArtifactCache {
+    private final CountDownLatch firstFetch = new CountDownLatch(1);
+
+    @Override
+    public ListenableFuture<CacheResult> fetchAsync(RuleKey ruleKey, LazyPath output) {
+      firstFetch.countDown();
+      return Futures.immediateFuture(CacheResult.miss());
+    }
+
+    @Override
+    public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+        ImmutableSet<RuleKey> ruleKeys) {
+      firstFetch.countDown();
+      ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+      for (RuleKey ruleKey : ruleKeys) {
+        results.put(ruleKey, CacheResult.miss());
+      }
+      return Futures.immediateFuture(results.build());
+    }
+
+    @Override
+    public ListenableFuture<Void> store(ArtifactInfo info, BorrowablePath output) {
+      return Futures.immediateFuture(null);
+    }
+
+    @Override
+    public CacheReadMode getCacheReadMode() {
+      return CacheReadMode.READONLY;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
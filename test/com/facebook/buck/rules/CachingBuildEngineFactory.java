@@ -48,6 +48,7 @@ public class CachingBuildEngineFactory {
   private boolean logBuildRuleFailuresInline = true;
   private BuildInfoStoreManager buildInfoStoreManager;
   private FileHashCacheMode fileHashCacheMode = FileHashCacheMode.DEFAULT;
+  private Optional<BuildRuleDurationEstimator> criticalPathDurationEstimator = Optional.empty();
 
   public CachingBuildEngineFactory(
       BuildRuleResolver buildRuleResolver, BuildInfoStoreManager buildInfoStoreManager) {
@@ -111,6 +112,12 @@ public class CachingBuildEngineFactory {
     return this;
   }
 
+  public CachingBuildEngineFactory setCriticalPathDurationEstimator(
+      BuildRuleDurationEstimator durationEstimator) {
+    this.criticalPathDurationEstimator = Optional.of(durationEstimator);
+    return this;
+  }
+
   public CachingBuildEngine build() {
     if (ruleKeyFactories.isPresent()) {
       SourcePathRuleFinder ruleFinder = new SourcePathRuleFinder(buildRuleResolver);
@@ -130,7 +137,8 @@ public class CachingBuildEngineFactory {
           ruleKeyFactories.get(),
           resourceAwareSchedulingInfo,
           logBuildRuleFailuresInline,
-          fileHashCacheMode);
+          fileHashCacheMode,
+          criticalPathDurationEstimator);
     }
 
     return new CachingBuildEngine(
@@ -152,7 +160,8 @@ public class CachingBuildEngineFactory {
             buildRuleResolver,
             inputFileSizeLimit,
             new DefaultRuleKeyCache<>()),
-        fileHashCacheMode);
+        fileHashCacheMode,
+        criticalPathDurationEstimator);
   }
 
   private static WeightedListeningExecutorService toWeighted(ListeningExecutorService service) {
@@ -33,7 +33,9 @@ import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
 import com.facebook.buck.artifact_cache.ArtifactCacheMode;
+import com.facebook.buck.artifact_cache.ArtifactContainerFormat;
 import com.facebook.buck.artifact_cache.ArtifactInfo;
+import com.facebook.buck.artifact_cache.ArtifactPayloadConsumer;
 import com.facebook.buck.artifact_cache.CacheReadMode;
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.CacheResultType;
@@ -269,7 +271,8 @@ public class CachingBuildEngineTest {
           buildInfoStore,
           new DefaultClock(),
           new BuildId(),
-          ImmutableMap.of());
+          ImmutableMap.of(),
+          ArtifactContainerFormat.ZIP);
     }
   }
 
@@ -481,8 +484,10 @@ public class CachingBuildEngineTest {
               Paths.get("buck-out/gen/src/com/facebook/orca/orca.jar"),
               "Imagine this is the contents of a valid JAR file.");
       expect(
-              artifactCache.fetchAsync(
-                  eq(defaultRuleKeyFactory.build(buildRule)), isA(LazyPath.class)))
+              artifactCache.fetchStreamingAsync(
+                  eq(defaultRuleKeyFactory.build(buildRule)),
+                  isA(LazyPath.class),
+                  isA(ArtifactPayloadConsumer.class)))
           .andDelegateTo(new FakeArtifactCacheThatWritesAZipFile(desiredZipEntries, metadata));
 
       BuildEngineBuildContext buildContext =
@@ -562,8 +567,10 @@ public class CachingBuildEngineTest {
               Paths.get("buck-out/gen/src/com/facebook/orca/orca.jar"),
               "Imagine this is the contents of a valid JAR file.");
       expect(
-              artifactCache.fetchAsync(
-                  eq(defaultRuleKeyFactory.build(buildRule)), isA(LazyPath.class)))
+              artifactCache.fetchStreamingAsync(
+                  eq(defaultRuleKeyFactory.build(buildRule)),
+                  isA(LazyPath.class),
+                  isA(ArtifactPayloadConsumer.class)))
           .andDelegateTo(new FakeArtifactCacheThatWritesAZipFile(desiredZipEntries, metadata));
 
       BuildEngineBuildContext buildContext =
@@ -3966,6 +3973,12 @@ public class CachingBuildEngineTest {
           CacheResult.hit("dir", ArtifactCacheMode.dir).withMetadata(metadata));
     }
 
+    @Override
+    public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsAsync(
+        ImmutableSet<RuleKey> ruleKeys) {
+      throw new UnsupportedOperationException();
+    }
+
     @Override
     public ListenableFuture<Void> store(ArtifactInfo info, BorrowablePath output) {
       throw new UnsupportedOperationException();
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.artifact_cache.NoopArtifactCache;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.model.BuildId;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.BuildTargetFactory;
+import com.facebook.buck.step.AbstractExecutionStep;
+import com.facebook.buck.step.ExecutionContext;
+import com.facebook.buck.step.Step;
+import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.step.TestExecutionContext;
+import com.facebook.buck.testutil.FakeProjectFilesystem;
+import com.facebook.buck.timing.DefaultClock;
+import com.facebook.buck.util.cache.FileHashCacheMode;
+import com.facebook.buck.util.cache.impl.StackedFileHashCache;
+import com.facebook.buck.util.concurrent.ListeningMultiSemaphore;
+import com.facebook.buck.util.concurrent.ResourceAllocationFairness;
+import com.facebook.buck.util.concurrent.ResourceAmounts;
+import com.facebook.buck.util.concurrent.WeightedListeningExecutorService;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Measures the wall time of a build whose rules sleep for the durations recorded for them by an
+ * earlier build, with and without critical path scheduling. The graph has the shape of an app
+ * build: a serial chain of slow rules (code generation, a big library, dexing and packaging) next
+ * to many quick leaf libraries, which keep the build threads busy if they are started first.
+ */
+public class CriticalPathSchedulingBenchmark {
+  @Param({"4", "16"})
+  private int threadCount = 4;
+
+  @Param({"false", "true"})
+  private boolean criticalPathScheduling = true;
+
+  @Param({"400"})
+  private int chainRuleMillis = 100;
+
+  @Param({"100"})
+  private int leafRuleMillis = 25;
+
+  private ProjectFilesystem filesystem;
+  private BuildRuleResolver resolver;
+  private BuildRule topLevelRule;
+
+  @Before
+  public void setUp() throws Exception {
+    setUpBenchmark();
+  }
+
+  @BeforeExperiment
+  public void setUpBenchmark() throws Exception {
+    filesystem = new FakeProjectFilesystem();
+    resolver =
+        new SingleThreadedBuildRuleResolver(
+            TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer());
+    Map<String, BuildRuleDurationHistory.Entry> recordedDurations = new HashMap<>();
+
+    // Enough leaves to keep all build threads busy for twice as long as the chain takes.
+    List<BuildRule> leaves = new ArrayList<>();
+    int leafCount = 8 * threadCount * chainRuleMillis / leafRuleMillis;
+    for (int i = 0; i < leafCount; i++) {
+      leaves.add(addRule(String.format("//lib:leaf%d", i), leafRuleMillis, recordedDurations));
+    }
+    BuildRule codegen = addRule("//app:codegen", chainRuleMillis, recordedDurations);
+    BuildRule library = addRule("//app:library", chainRuleMillis, recordedDurations, codegen);
+    BuildRule dex = addRule("//app:dex", chainRuleMillis, recordedDurations, library);
+    leaves.add(dex);
+    topLevelRule =
+        addRule(
+            "//app:apk", chainRuleMillis, recordedDurations, leaves.toArray(new BuildRule[0]));
+    BuildRuleDurationHistory.update(filesystem, recordedDurations);
+  }
+
+  @Test
+  public void buildWallTimePerformance() throws Exception {
+    buildWallTime(1);
+  }
+
+  @Benchmark
+  public void buildWallTime(int reps) throws Exception {
+    for (int i = 0; i < reps; i++) {
+      ExecutorService threads = Executors.newFixedThreadPool(threadCount);
+      // Like the build command, limit the number of concurrently running rules by the semaphore.
+      WeightedListeningExecutorService executor =
+          new WeightedListeningExecutorService(
+              new ListeningMultiSemaphore(
+                  ResourceAmounts.of(threadCount, 0, 0, 0), ResourceAllocationFairness.FAIR),
+              ResourceAmounts.of(1, 0, 0, 0),
+              MoreExecutors.listeningDecorator(threads));
+      CachingBuildEngineFactory engineFactory =
+          new CachingBuildEngineFactory(resolver, new BuildInfoStoreManager())
+              .setCachingBuildEngineDelegate(
+                  new LocalCachingBuildEngineDelegate(
+                      StackedFileHashCache.createDefaultHashCaches(
+                          filesystem, FileHashCacheMode.DEFAULT)))
+              .setExecutorService(executor);
+      if (criticalPathScheduling) {
+        engineFactory.setCriticalPathDurationEstimator(
+            new BuildRuleDurationEstimator(BuildRuleDurationHistory.load(filesystem)));
+      }
+      try (CachingBuildEngine engine = engineFactory.build()) {
+        BuildEngineBuildContext buildContext =
+            BuildEngineBuildContext.builder()
+                .setBuildContext(FakeBuildContext.NOOP_CONTEXT)
+                .setArtifactCache(new NoopArtifactCache())
+                .setBuildId(new BuildId())
+                .setClock(new DefaultClock())
+                .build();
+        ExecutionContext executionContext = TestExecutionContext.newInstance();
+        BuildResult result =
+            engine
+                .build(buildContext, executionContext, topLevelRule)
+                .getResult()
+                .get(5, TimeUnit.MINUTES);
+        assertEquals(BuildRuleSuccessType.BUILT_LOCALLY, result.getSuccess());
+      } finally {
+        threads.shutdownNow();
+      }
+    }
+  }
+
+  private BuildRule addRule(
+      String target,
+      long wallMillis,
+      Map<String, BuildRuleDurationHistory.Entry> recordedDurations,
+      BuildRule... deps) {
+    BuildRule rule =
+        new SleepingBuildRule(
+            BuildTargetFactory.newInstance(target), filesystem, wallMillis, deps);
+    resolver.addToIndex(rule);
+    recordedDurations.put(target, new BuildRuleDurationHistory.Entry(rule.getType(), wallMillis));
+    return rule;
+  }
+
+  private static class SleepingBuildRule extends AbstractBuildRuleWithDeclaredAndExtraDeps {
+    private final long wallMillis;
+
+    private SleepingBuildRule(
+        BuildTarget buildTarget,
+        ProjectFilesystem projectFilesystem,
+        long wallMillis,
+        BuildRule... deps) {
+      super(
+          buildTarget,
+          projectFilesystem,
+          TestBuildRuleParams.create().withDeclaredDeps(ImmutableSortedSet.copyOf(deps)));
+      this.wallMillis = wallMillis;
+    }
+
+    @Override
+    public ImmutableList<Step> getBuildSteps(
+        BuildContext context, BuildableContext buildableContext) {
+      return ImmutableList.of(
+          new AbstractExecutionStep("sleep") {
+            @Override
+            public StepExecutionResult execute(ExecutionContext context)
+                throws InterruptedException {
+              Thread.sleep(wallMillis);
+              return StepExecutionResult.SUCCESS;
+            }
+          });
+    }
+
+    @Nullable
+    @Override
+    public SourcePath getSourcePathToOutput() {
+      return null;
+    }
+  }
+}
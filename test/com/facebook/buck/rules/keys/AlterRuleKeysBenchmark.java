@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.rules.AddToRuleKey;
+import com.facebook.buck.rules.AddsToRuleKey;
+import com.facebook.buck.rules.RuleKeyObjectSink;
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares reading the {@link AddToRuleKey} members of a typical rule through the accessors
+ * generated by {@code AddToRuleKeyProcessor} with reading them reflectively.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class AlterRuleKeysBenchmark {
+
+  @Param({"true", "false"})
+  public boolean useGeneratedAccessors;
+
+  private final BenchmarkRule rule = new BenchmarkRule();
+  private ImmutableCollection<AlterRuleKey> alterRuleKeys;
+
+  @Setup
+  public void setUp() throws Exception {
+    alterRuleKeys = new ReflectiveAlterKeyLoader(useGeneratedAccessors).load(rule.getClass());
+  }
+
+  @Benchmark
+  public void amendKey(Blackhole blackhole) {
+    RuleKeyObjectSink sink = new BlackholeRuleKeyObjectSink(blackhole);
+    for (AlterRuleKey alterRuleKey : alterRuleKeys) {
+      alterRuleKey.amendKey(sink, rule);
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(AlterRuleKeysBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+
+  static class BaseBenchmarkRule implements AddsToRuleKey {
+    @AddToRuleKey private final String name = "//some/package:target";
+    @AddToRuleKey private final ImmutableList<String> flags = ImmutableList.of("-O2", "-g");
+    @AddToRuleKey final boolean enabled = true;
+  }
+
+  static class BenchmarkRule extends BaseBenchmarkRule {
+    @AddToRuleKey private final Path output = Paths.get("buck-out/gen/some/package/target.jar");
+    @AddToRuleKey private final Optional<String> mainClass = Optional.of("com.example.Main");
+    @AddToRuleKey private final int version = 7;
+
+    @AddToRuleKey
+    private final ImmutableSortedMap<String, String> environment =
+        ImmutableSortedMap.of("KEY", "value", "OTHER_KEY", "other value");
+
+    @AddToRuleKey(stringify = true)
+    private final Path workingDirectory = Paths.get("some/package");
+
+    @AddToRuleKey final ImmutableList<String> srcs = ImmutableList.of("A.java", "B.java");
+    @AddToRuleKey final long timeoutMs = 1000;
+  }
+
+  private static class BlackholeRuleKeyObjectSink implements RuleKeyObjectSink {
+    private final Blackhole blackhole;
+
+    private BlackholeRuleKeyObjectSink(Blackhole blackhole) {
+      this.blackhole = blackhole;
+    }
+
+    @Override
+    public RuleKeyObjectSink setReflectively(String key, @Nullable Object val) {
+      blackhole.consume(key);
+      blackhole.consume(val);
+      return this;
+    }
+
+    @Override
+    @Deprecated
+    public RuleKeyObjectSink setPath(Path absolutePath, Path ideallyRelative) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import com.facebook.buck.rules.AddToRuleKey;
+import com.facebook.buck.rules.AddToRuleKeyAccessor;
+import com.facebook.buck.rules.AddsToRuleKey;
+import com.facebook.buck.rules.RuleKeyObjectSink;
+import com.google.common.collect.ImmutableList;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import org.junit.Test;
+
+public class ReflectiveAlterKeyLoaderTest {
+
+  static class Base implements AddsToRuleKey {
+    @AddToRuleKey private final String privateField = "private";
+    @AddToRuleKey final int packageField = 42;
+
+    @AddToRuleKey(stringify = true)
+    protected final Path stringifiedField = Paths.get("some/path");
+  }
+
+  static class Derived extends Base {
+    @AddToRuleKey private final Optional<String> derivedField = Optional.of("derived");
+  }
+
+  static class Outer {
+    static class Inner implements AddsToRuleKey {
+      @AddToRuleKey final String nestedValue = "nested";
+    }
+  }
+
+  static class Outer_Inner implements AddsToRuleKey {
+    @AddToRuleKey final String underscoredValue = "underscored";
+  }
+
+  private static class PrivateClass implements AddsToRuleKey {
+    @AddToRuleKey private final String value = "value";
+  }
+
+  @Test
+  public void accessorIsGeneratedForEachDeclaringClass() throws Exception {
+    AddToRuleKeyAccessor accessor =
+        Class.forName(AddToRuleKeyAccessor.getAccessorName(Base.class.getName()))
+            .asSubclass(AddToRuleKeyAccessor.class)
+            .newInstance();
+    assertEquals(Base.class, accessor.getTargetClass());
+    assertEquals(
+        ImmutableList.of("privateField", "packageField", "stringifiedField"),
+        accessor.getMemberNames());
+    assertEquals("private", accessor.getValue(0, new Derived()));
+    assertEquals(42, accessor.getValue(1, new Derived()));
+  }
+
+  @Test
+  public void generatedAccessorsAddTheSameValuesAsReflection() throws Exception {
+    List<Map.Entry<String, Object>> expected =
+        ImmutableList.of(
+            entry("derivedField", Optional.of("derived")),
+            entry("packageField", 42),
+            entry("privateField", "private"),
+            entry("stringifiedField", "some/path"));
+    assertEquals(expected, amendKey(new ReflectiveAlterKeyLoader(false), new Derived()));
+    assertEquals(expected, amendKey(new ReflectiveAlterKeyLoader(true), new Derived()));
+  }
+
+  @Test
+  public void nestedAndUnderscoredClassesGetDistinctAccessors() throws Exception {
+    assertEquals(
+        ImmutableList.of(entry("nestedValue", "nested")),
+        amendKey(new ReflectiveAlterKeyLoader(true), new Outer.Inner()));
+    assertEquals(
+        ImmutableList.of(entry("underscoredValue", "underscored")),
+        amendKey(new ReflectiveAlterKeyLoader(true), new Outer_Inner()));
+    assertNotEquals(
+        AddToRuleKeyAccessor.getAccessorName(Outer.Inner.class.getName()),
+        AddToRuleKeyAccessor.getAccessorName(Outer_Inner.class.getName()));
+  }
+
+  @Test
+  public void membersOfPrivateClassesAreReadReflectively() throws Exception {
+    assertEquals(
+        ImmutableList.of(entry("value", "value")),
+        amendKey(new ReflectiveAlterKeyLoader(true), new PrivateClass()));
+  }
+
+  private static Map.Entry<String, Object> entry(String key, Object value) {
+    return new AbstractMap.SimpleImmutableEntry<>(key, value);
+  }
+
+  private static List<Map.Entry<String, Object>> amendKey(
+      ReflectiveAlterKeyLoader loader, AddsToRuleKey appendable) throws Exception {
+    RecordingRuleKeyObjectSink sink = new RecordingRuleKeyObjectSink();
+    for (AlterRuleKey alterRuleKey : loader.load(appendable.getClass())) {
+      alterRuleKey.amendKey(sink, appendable);
+    }
+    return sink.values;
+  }
+
+  private static class RecordingRuleKeyObjectSink implements RuleKeyObjectSink {
+    private final List<Map.Entry<String, Object>> values = new ArrayList<>();
+
+    @Override
+    public RuleKeyObjectSink setReflectively(String key, @Nullable Object val) {
+      values.add(entry(key, val));
+      return this;
+    }
+
+    @Override
+    @Deprecated
+    public RuleKeyObjectSink setPath(Path absolutePath, Path ideallyRelative) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
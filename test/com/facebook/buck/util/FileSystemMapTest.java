@@ -23,6 +23,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import com.google.common.collect.ImmutableList;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -207,6 +208,27 @@ public class FileSystemMapTest {
     assertEquals(fsMap.map.size(), 0);
   }
 
+  @Test
+  public void testRemoveAllPaths() {
+    FileSystemMap<Boolean> fsMap = new FileSystemMap<>(loader);
+    fsMap.put(Paths.get("usr/a/One.java"), true);
+    fsMap.put(Paths.get("usr/a/Two.java"), true);
+    fsMap.put(Paths.get("usr/b/Three.java"), true);
+    fsMap.put(Paths.get("opt/Four.java"), true);
+    fsMap.get(Paths.get("usr"));
+
+    fsMap.removeAll(
+        ImmutableList.of(
+            Paths.get("usr/a"), Paths.get("usr/a/One.java"), Paths.get("opt/Four.java")));
+
+    assertNull(fsMap.getIfPresent(Paths.get("usr/a/One.java")));
+    assertNull(fsMap.getIfPresent(Paths.get("usr/a/Two.java")));
+    assertNull(fsMap.getIfPresent(Paths.get("usr")));
+    assertTrue(fsMap.getIfPresent(Paths.get("usr/b/Three.java")));
+    assertFalse(fsMap.root.subLevels.containsKey(Paths.get("opt")));
+    assertFalse(fsMap.root.subLevels.get(Paths.get("usr")).subLevels.containsKey(Paths.get("a")));
+  }
+
   @Test
   public void testRemoveAllWithEmptyTrie() {
     FileSystemMap<Boolean> fsMap = new FileSystemMap<>(loader);
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.cache.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.event.AbstractBuckEvent;
+import com.facebook.buck.event.FileHashCacheEvent;
+import com.facebook.buck.io.WatchmanPathEvent;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.facebook.buck.util.cache.FileHashCacheMode;
+import com.google.common.hash.HashCode;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class PersistentFileHashCacheEngineTest {
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+
+  @Before
+  public void setUp() throws InterruptedException {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+  }
+
+  private WatchedFileHashCache newCache() {
+    return new WatchedFileHashCache(filesystem, FileHashCacheMode.PERSISTENT_PREFIX_TREE);
+  }
+
+  private static long countEvents(List<AbstractBuckEvent> events, String subCategory) {
+    long count = 0;
+    for (AbstractBuckEvent event : events) {
+      if (event instanceof FileHashCacheEvent) {
+        FileHashCacheEvent fileHashCacheEvent = (FileHashCacheEvent) event;
+        if (fileHashCacheEvent
+            .getCategory()
+            .equals("file_hash_cache_invalidation." + subCategory)) {
+          count += fileHashCacheEvent.getDataPointsCount();
+        }
+      }
+    }
+    return count;
+  }
+
+  @Test
+  public void unchangedFilesReuseThePersistedHash() throws IOException {
+    Path path = Paths.get("SomeClass.java");
+    filesystem.writeContentsToPath("class SomeClass {}", path);
+
+    WatchedFileHashCache cache = newCache();
+    HashCode hashCode = cache.get(path);
+    cache.persist();
+    Path storePath = filesystem.getBuckPaths().getFileHashCacheFile();
+    assertTrue(filesystem.isFile(storePath));
+    for (Path sibling : filesystem.getDirectoryContents(storePath.getParent())) {
+      assertFalse(sibling.getFileName().toString().endsWith(".tmp"));
+    }
+
+    WatchedFileHashCache restartedCache = newCache();
+    assertEquals(hashCode, restartedCache.get(path));
+    assertEquals(1, countEvents(restartedCache.getStatsEvents(), "persistent.reused"));
+  }
+
+  @Test
+  public void modifiedFilesAreRehashed() throws IOException {
+    Path path = Paths.get("SomeClass.java");
+    filesystem.writeContentsToPath("class SomeClass {}", path);
+
+    WatchedFileHashCache cache = newCache();
+    HashCode hashCode = cache.get(path);
+    cache.persist();
+
+    filesystem.writeContentsToPath("class SomeClass { int i; }", path);
+    filesystem.setLastModifiedTime(path, FileTime.fromMillis(0));
+
+    WatchedFileHashCache restartedCache = newCache();
+    assertNotEquals(hashCode, restartedCache.get(path));
+    List<AbstractBuckEvent> events = restartedCache.getStatsEvents();
+    assertEquals(0, countEvents(events, "persistent.reused"));
+    assertEquals(1, countEvents(events, "persistent.stale"));
+  }
+
+  @Test
+  public void invalidatedFilesAreNotPersisted() throws IOException {
+    Path path = Paths.get("SomeClass.java");
+    filesystem.writeContentsToPath("class SomeClass {}", path);
+
+    WatchedFileHashCache cache = newCache();
+    cache.get(path);
+    cache.onFileSystemChange(
+        WatchmanPathEvent.of(filesystem.getRootPath(), WatchmanPathEvent.Kind.MODIFY, path));
+    cache.persist();
+
+    WatchedFileHashCache restartedCache = newCache();
+    restartedCache.get(path);
+    assertEquals(0, countEvents(restartedCache.getStatsEvents(), "persistent.reused"));
+  }
+
+  @Test
+  public void storeIsOnlyRewrittenAfterChanges() throws IOException {
+    Path path = Paths.get("SomeClass.java");
+    filesystem.writeContentsToPath("class SomeClass {}", path);
+
+    WatchedFileHashCache cache = newCache();
+    cache.get(path);
+    cache.persist();
+    Path storePath = filesystem.getBuckPaths().getFileHashCacheFile();
+    filesystem.deleteFileAtPath(storePath);
+
+    cache.get(path);
+    cache.persist();
+    assertFalse(filesystem.exists(storePath));
+
+    cache.onFileSystemChange(
+        WatchmanPathEvent.of(filesystem.getRootPath(), WatchmanPathEvent.Kind.MODIFY, path));
+    cache.get(path);
+    cache.persist();
+    assertTrue(filesystem.isFile(storePath));
+  }
+
+  @Test
+  public void corruptStoreIsIgnored() throws IOException {
+    Path path = Paths.get("SomeClass.java");
+    filesystem.writeContentsToPath("class SomeClass {}", path);
+    filesystem.createParentDirs(filesystem.getBuckPaths().getFileHashCacheFile());
+    filesystem.writeContentsToPath("garbage", filesystem.getBuckPaths().getFileHashCacheFile());
+
+    WatchedFileHashCache cache = newCache();
+    assertEquals(filesystem.computeSha1(path).asHashCode(), cache.get(path));
+    assertEquals(0, countEvents(cache.getStatsEvents(), "persistent.reused"));
+  }
+}
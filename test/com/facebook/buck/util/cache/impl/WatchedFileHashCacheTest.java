@@ -17,11 +17,13 @@
 package com.facebook.buck.util.cache.impl;
 
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import com.facebook.buck.event.FileHashCacheEvent;
 import com.facebook.buck.io.WatchmanOverflowEvent;
 import com.facebook.buck.io.WatchmanPathEvent;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
@@ -32,6 +34,8 @@ import com.facebook.buck.util.MoreCollectors;
 import com.facebook.buck.util.cache.FileHashCacheMode;
 import com.facebook.buck.util.cache.HashCodeAndFileType;
 import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.hash.HashCode;
 import java.io.File;
@@ -231,6 +235,39 @@ public class WatchedFileHashCacheTest {
         nullValue());
   }
 
+  @Test
+  public void burstOfPathEventsIsInvalidatedInOneSweep() throws IOException {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    WatchedFileHashCache cache = new WatchedFileHashCache(filesystem, fileHashCacheMode);
+    ImmutableList<Path> paths =
+        ImmutableList.of(Paths.get("a/One.java"), Paths.get("a/Two.java"), Paths.get("Three.java"));
+    for (Path path : paths) {
+      filesystem.touch(path);
+      cache.fileHashCacheEngine.put(path, HashCodeAndFileType.ofFile(HashCode.fromInt(42)));
+      cache.onFileSystemChange(
+          WatchmanPathEvent.of(filesystem.getRootPath(), WatchmanPathEvent.Kind.MODIFY, path));
+    }
+
+    for (Path path : paths) {
+      assertFalse("Cache should not contain path", cache.getIfPresent(path).isPresent());
+    }
+    ImmutableMap<String, Long> dataPoints =
+        cache
+            .getStatsEvents()
+            .stream()
+            .filter(FileHashCacheEvent.class::isInstance)
+            .map(FileHashCacheEvent.class::cast)
+            .collect(
+                MoreCollectors.toImmutableMap(
+                    FileHashCacheEvent::getCategory, FileHashCacheEvent::getDataPointsCount));
+    assertEquals(
+        Long.valueOf(3),
+        dataPoints.get("file_hash_cache_invalidation.watched.coalesced_events"));
+    assertEquals(
+        Long.valueOf(1),
+        dataPoints.get("file_hash_cache_invalidation.watched.invalidation_sweep"));
+  }
+
   @Test
   public void thatWillGetIsCorrect() throws IOException, InterruptedException {
     ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+
+public class BoundedRingBufferTest {
+
+  @Test
+  public void offerFailsWhenFullAndPollReturnsElementsInOrder() {
+    BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+    for (int i = 0; i < 4; i++) {
+      assertTrue(buffer.offer(i));
+    }
+    assertFalse(buffer.offer(4));
+    assertEquals(4, buffer.size());
+
+    for (int i = 0; i < 4; i++) {
+      assertEquals(i, (int) buffer.poll());
+    }
+    assertNull(buffer.poll());
+    assertTrue(buffer.isEmpty());
+
+    // Wrapping around reuses the slots.
+    assertTrue(buffer.offer(5));
+    assertEquals(5, (int) buffer.poll());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void capacityMustBeAPowerOfTwo() {
+    new BoundedRingBuffer<Integer>(3);
+  }
+
+  @Test
+  public void concurrentProducersAndConsumersSeeEveryElementOnce() throws Exception {
+    BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(64);
+    int producers = 4;
+    int perProducer = 10_000;
+    ExecutorService executor = Executors.newFixedThreadPool(producers * 2);
+    try {
+      List<Future<List<Integer>>> consumed = new ArrayList<>();
+      for (int p = 0; p < producers; p++) {
+        int base = p * perProducer;
+        executor.submit(
+            () -> {
+              for (int i = 0; i < perProducer; i++) {
+                while (!buffer.offer(base + i)) {
+                  Thread.yield();
+                }
+              }
+            });
+        consumed.add(
+            executor.submit(
+                () -> {
+                  List<Integer> elements = new ArrayList<>();
+                  while (elements.size() < perProducer) {
+                    Integer element = buffer.poll();
+                    if (element == null) {
+                      Thread.yield();
+                    } else {
+                      elements.add(element);
+                    }
+                  }
+                  return elements;
+                }));
+      }
+
+      Set<Integer> seen = new HashSet<>();
+      for (Future<List<Integer>> future : consumed) {
+        for (Integer element : future.get()) {
+          assertTrue(seen.add(element));
+        }
+      }
+      assertEquals(producers * perProducer, seen.size());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
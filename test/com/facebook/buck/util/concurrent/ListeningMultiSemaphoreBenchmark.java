@@ -0,0 +1,127 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.concurrent;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the throughput of acquiring and releasing resources of a {@link ListeningMultiSemaphore}
+ * shared by many threads, with a mix of the resource amounts the build engine asks for. Most
+ * requests are light, like the cache checks and rule key computations which make up most of the
+ * acquisitions of a build, and some are heavy enough to wait for others to release theirs.
+ *
+ * <p>Run it with {@code buck run //test/com/facebook/buck/util/concurrent:semaphore_benchmark},
+ * which runs it for 1 to 128 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ListeningMultiSemaphoreBenchmark {
+
+  private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64, 128};
+
+  // Roughly what a build with resource-aware scheduling asks for, from lightest to heaviest.
+  private static final ResourceAmounts[] AMOUNTS = {
+    ResourceAmounts.of(0, 0, 1, 1), // cache check
+    ResourceAmounts.of(0, 0, 1, 0), // rule key computation
+    ResourceAmounts.of(1, 0, 0, 0), // step
+    ResourceAmounts.of(1, 1, 0, 0), // build rule
+    ResourceAmounts.of(4, 20, 5, 0), // link
+  };
+  private static final int[] AMOUNT_WEIGHTS = {40, 30, 15, 14, 1};
+
+  @Param({"FAIR", "FAST"})
+  public ResourceAllocationFairness fairness;
+
+  private ListeningMultiSemaphore semaphore;
+
+  @Setup
+  public void setUp() {
+    semaphore =
+        new ListeningMultiSemaphore(ResourceAmountsEstimator.getEstimatedAmounts(), fairness);
+  }
+
+  /** The sequence of amounts each thread asks for. */
+  @State(Scope.Thread)
+  public static class Requests {
+    private final ResourceAmounts[] amounts = new ResourceAmounts[1024];
+    private int next;
+
+    @Setup
+    public void setUp() {
+      Random random = new Random(Thread.currentThread().getId());
+      int totalWeight = 0;
+      for (int weight : AMOUNT_WEIGHTS) {
+        totalWeight += weight;
+      }
+      for (int i = 0; i < amounts.length; i++) {
+        int pick = random.nextInt(totalWeight);
+        int index = 0;
+        while (pick >= AMOUNT_WEIGHTS[index]) {
+          pick -= AMOUNT_WEIGHTS[index];
+          index++;
+        }
+        amounts[i] = AMOUNTS[index];
+      }
+    }
+
+    private ResourceAmounts next() {
+      next = (next + 1) % amounts.length;
+      return amounts[next];
+    }
+  }
+
+  @Benchmark
+  public void acquireAndRelease(Requests requests)
+      throws ExecutionException, InterruptedException {
+    ResourceAmounts amounts = requests.next();
+    ListenableFuture<Void> acquired = semaphore.acquire(amounts);
+    acquired.get();
+    semaphore.release(amounts);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    for (int threads : THREAD_COUNTS) {
+      new Runner(
+              new OptionsBuilder()
+                  .include(ListeningMultiSemaphoreBenchmark.class.getSimpleName())
+                  .threads(threads)
+                  .build())
+          .run();
+    }
+  }
+}
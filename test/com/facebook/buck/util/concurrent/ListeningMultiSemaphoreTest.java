@@ -19,7 +19,12 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 
@@ -202,6 +207,114 @@ public class ListeningMultiSemaphoreTest {
     assertThat(second.isDone(), Matchers.equalTo(true));
   }
 
+  @Test
+  public void testPendingRequestsAreServedInOrderOfPriority() {
+    ListeningMultiSemaphore semaphore = getFairListeningMultiSemaphore(amountsOfCpu(1));
+    semaphore.acquire(amountsOfCpu(1));
+
+    ListenableFuture<Void> low = semaphore.acquire(amountsOfCpu(1), 1);
+    ListenableFuture<Void> firstHigh = semaphore.acquire(amountsOfCpu(1), 10);
+    ListenableFuture<Void> lowest = semaphore.acquire(amountsOfCpu(1));
+    ListenableFuture<Void> secondHigh = semaphore.acquire(amountsOfCpu(1), 10);
+    assertThat(semaphore.getQueueLength(), Matchers.equalTo(4));
+
+    // Requests with the same priority are served in the order they were made.
+    semaphore.release(amountsOfCpu(1));
+    assertThat(firstHigh.isDone(), Matchers.equalTo(true));
+    assertThat(secondHigh.isDone(), Matchers.equalTo(false));
+
+    semaphore.release(amountsOfCpu(1));
+    assertThat(secondHigh.isDone(), Matchers.equalTo(true));
+    assertThat(low.isDone(), Matchers.equalTo(false));
+
+    semaphore.release(amountsOfCpu(1));
+    assertThat(low.isDone(), Matchers.equalTo(true));
+    assertThat(lowest.isDone(), Matchers.equalTo(false));
+
+    semaphore.release(amountsOfCpu(1));
+    assertThat(lowest.isDone(), Matchers.equalTo(true));
+    assertThat(semaphore.getQueueLength(), Matchers.equalTo(0));
+  }
+
+  @Test
+  public void memoryIsHeldBackWhileTheHostIsLowOnMemory() {
+    AtomicInteger memoryHeadroom = new AtomicInteger(2);
+    ListeningMultiSemaphore semaphore =
+        new ListeningMultiSemaphore(
+            amountsOfCpuAndMemory(4, 10), ResourceAllocationFairness.FAIR, memoryHeadroom::get);
+
+    // Nothing holds memory yet, so the request is granted whatever the host has left.
+    assertThat(semaphore.acquire(amountsOfCpuAndMemory(1, 5)).isDone(), Matchers.equalTo(true));
+    memoryHeadroom.set(1);
+    assertThat(semaphore.acquire(amountsOfCpuAndMemory(1, 1)).isDone(), Matchers.equalTo(true));
+    ListenableFuture<Void> heavy = semaphore.acquire(amountsOfCpuAndMemory(1, 3));
+    assertThat(heavy.isDone(), Matchers.equalTo(false));
+    assertThat(semaphore.acquire(amountsOfCpu(1)).isDone(), Matchers.equalTo(true));
+
+    memoryHeadroom.set(3);
+    semaphore.release(amountsOfCpuAndMemory(1, 1));
+    assertThat(heavy.isDone(), Matchers.equalTo(true));
+  }
+
+  @Test
+  public void memoryIsGrantedWhenNothingElseHoldsAny() {
+    ListeningMultiSemaphore semaphore =
+        new ListeningMultiSemaphore(
+            amountsOfCpuAndMemory(4, 10), ResourceAllocationFairness.FAIR, () -> 0);
+
+    assertThat(semaphore.acquire(amountsOfCpuAndMemory(1, 5)).isDone(), Matchers.equalTo(true));
+    ListenableFuture<Void> second = semaphore.acquire(amountsOfCpuAndMemory(1, 5));
+    assertThat(second.isDone(), Matchers.equalTo(false));
+
+    semaphore.release(amountsOfCpuAndMemory(1, 5));
+    assertThat(second.isDone(), Matchers.equalTo(true));
+  }
+
+  @Test(timeout = 30000)
+  public void concurrentRequestsAreAllServed() throws Exception {
+    for (ResourceAllocationFairness fairness : ResourceAllocationFairness.values()) {
+      ListeningMultiSemaphore semaphore =
+          new ListeningMultiSemaphore(ResourceAmounts.of(4, 6, 3, 1), fairness);
+      int threadCount = 8;
+      int requestsPerThread = 1000;
+      CountDownLatch served = new CountDownLatch(threadCount * requestsPerThread);
+      ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+      // Like WeightedListeningExecutorService, release on another thread than the one acquiring.
+      ExecutorService releaser = Executors.newFixedThreadPool(threadCount);
+      try {
+        for (int thread = 0; thread < threadCount; thread++) {
+          int seed = thread;
+          executor.execute(
+              () -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < requestsPerThread; i++) {
+                  ResourceAmounts amounts =
+                      ResourceAmounts.of(
+                          1 + random.nextInt(4),
+                          random.nextInt(7),
+                          random.nextInt(2),
+                          random.nextInt(2));
+                  semaphore
+                      .acquire(amounts, random.nextInt(3))
+                      .addListener(
+                          () -> {
+                            semaphore.release(amounts);
+                            served.countDown();
+                          },
+                          releaser);
+                }
+              });
+        }
+        served.await();
+      } finally {
+        executor.shutdownNow();
+        releaser.shutdownNow();
+      }
+      assertThat(semaphore.getQueueLength(), Matchers.equalTo(0));
+      assertThat(semaphore.getAvailableResources(), Matchers.equalTo(semaphore.getMaximumValues()));
+    }
+  }
+
   private ListeningMultiSemaphore getFairListeningMultiSemaphore(ResourceAmounts values) {
     return new ListeningMultiSemaphore(values, ResourceAllocationFairness.FAIR);
   }
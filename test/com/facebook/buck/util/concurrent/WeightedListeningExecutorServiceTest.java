@@ -23,6 +23,8 @@ import static org.junit.Assert.assertTrue;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -94,6 +96,30 @@ public class WeightedListeningExecutorServiceTest {
     assertThat(semaphore.getAvailableResources(), Matchers.equalTo(ResourceAmounts.of(1, 0, 0, 0)));
   }
 
+  @Test
+  public void waitingTasksRunInOrderOfPriority() {
+    ListeningMultiSemaphore semaphore =
+        new ListeningMultiSemaphore(
+            ResourceAmounts.of(1, 0, 0, 0), ResourceAllocationFairness.FAIR);
+    WeightedListeningExecutorService service =
+        new WeightedListeningExecutorService(
+            semaphore, ResourceAmounts.of(1, 0, 0, 0), newDirectExecutorService());
+    semaphore.acquire(ResourceAmounts.of(1, 0, 0, 0));
+
+    List<String> order = new ArrayList<>();
+    service.submit(() -> order.add("default"));
+    service.withPriority(5).submit(() -> order.add("high"));
+    // Adjusting the default amounts keeps the priority.
+    service
+        .withPriority(1)
+        .withDefaultAmounts(ResourceAmounts.of(1, 1, 0, 0))
+        .submit(() -> order.add("low"));
+    assertThat(order, Matchers.empty());
+
+    semaphore.release(ResourceAmounts.of(1, 0, 0, 0));
+    assertThat(order, Matchers.contains("high", "low", "default"));
+  }
+
   private AtomicBoolean submitSetBool(
       WeightedListeningExecutorService service, ResourceAmounts amounts) {
     final AtomicBoolean bool = new AtomicBoolean(false);
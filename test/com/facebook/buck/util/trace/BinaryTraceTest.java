@@ -0,0 +1,258 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.trace;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.facebook.buck.util.ObjectMappers;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class BinaryTraceTest {
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  @Test
+  public void roundTripsEventsWrittenFromSeveralThreads() throws InterruptedException, IOException {
+    int threadCount = 4;
+    int eventsPerThread = 1000;
+    String longValue = Strings.repeat("x", 1000);
+    ByteArrayOutputStream trace = new ByteArrayOutputStream();
+    BinaryTraceWriter writer = new BinaryTraceWriter(trace, Thread::new);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < threadCount; t++) {
+      long threadId = t;
+      Thread thread =
+          new Thread(
+              () -> {
+                for (int i = 0; i < eventsPerThread; i++) {
+                  writer.write(
+                      "buck",
+                      "event_" + (i % 10),
+                      i % 2 == 0 ? 'B' : 'E',
+                      0,
+                      threadId,
+                      1000L * i + threadId,
+                      -i,
+                      ImmutableMap.of("index", i, "short", "value_" + (i % 3), "long", longValue));
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    writer.close();
+
+    Map<Long, Integer> nextIndex = new HashMap<>();
+    int events = 0;
+    try (BinaryTraceReader reader =
+        new BinaryTraceReader(new ByteArrayInputStream(trace.toByteArray()))) {
+      for (Optional<Map<String, Object>> event = reader.readEvent();
+          event.isPresent();
+          event = reader.readEvent()) {
+        long threadId = (Long) event.get().get("tid");
+        int i = nextIndex.getOrDefault(threadId, 0);
+        nextIndex.put(threadId, i + 1);
+        events++;
+        assertEquals(
+            ImmutableMap.builder()
+                .put("cat", "buck")
+                .put("name", "event_" + (i % 10))
+                .put("ph", i % 2 == 0 ? "B" : "E")
+                .put("pid", 0L)
+                .put("tid", threadId)
+                .put("ts", 1000L * i + threadId)
+                .put("tts", (long) -i)
+                .put(
+                    "args",
+                    ImmutableMap.of(
+                        "index", (long) i, "short", "value_" + (i % 3), "long", longValue))
+                .build(),
+            event.get());
+      }
+    }
+    assertEquals(threadCount * eventsPerThread, events);
+    // The repeated strings are only written once, so the trace is much smaller than its contents.
+    assertTrue(trace.size() < eventsPerThread * longValue.length() / 10);
+  }
+
+  @Test
+  public void convertsToTheJsonArrayFormat() throws IOException {
+    ByteArrayOutputStream trace = new ByteArrayOutputStream();
+    try (BinaryTraceWriter writer = new BinaryTraceWriter(trace, Thread::new)) {
+      writer.write("buck", "thread_name", 'M', 0, 1, 10, 5, ImmutableMap.of("name", "main"));
+      writer.write(null, "counter", 'C', 0, 1, 8, 7, null);
+      writer.write(
+          "buck",
+          "build",
+          'B',
+          0,
+          2,
+          12,
+          3,
+          ImmutableMap.of(
+              "ratio",
+              0.5,
+              "success",
+              true,
+              "targets",
+              ImmutableList.of("//a:a", "//b:b"),
+              "labels",
+              ImmutableMap.of("key", "value")));
+    }
+
+    ByteArrayOutputStream json = new ByteArrayOutputStream();
+    BinaryTrace.convertToJson(new ByteArrayInputStream(trace.toByteArray()), json);
+    assertEquals(
+        ImmutableList.of(
+            ImmutableMap.builder()
+                .put("cat", "buck")
+                .put("name", "thread_name")
+                .put("ph", "M")
+                .put("pid", 0)
+                .put("tid", 1)
+                .put("ts", 10)
+                .put("tts", 5)
+                .put("args", ImmutableMap.of("name", "main"))
+                .build(),
+            ImmutableMap.builder()
+                .put("name", "counter")
+                .put("ph", "C")
+                .put("pid", 0)
+                .put("tid", 1)
+                .put("ts", 8)
+                .put("tts", 7)
+                .build(),
+            ImmutableMap.builder()
+                .put("cat", "buck")
+                .put("name", "build")
+                .put("ph", "B")
+                .put("pid", 0)
+                .put("tid", 2)
+                .put("ts", 12)
+                .put("tts", 3)
+                .put(
+                    "args",
+                    ImmutableMap.of(
+                        "ratio",
+                        0.5,
+                        "success",
+                        true,
+                        "targets",
+                        ImmutableList.of("//a:a", "//b:b"),
+                        "labels",
+                        ImmutableMap.of("key", "value")))
+                .build()),
+        ObjectMappers.readValue(
+            new String(json.toByteArray(), StandardCharsets.UTF_8),
+            new TypeReference<List<Map<String, Object>>>() {}));
+  }
+
+  @Test
+  public void convertsToJsonWhileTheTraceIsRead() throws IOException {
+    // Enough events for the conversion to take several batches.
+    int events = 20000;
+    ByteArrayOutputStream trace = new ByteArrayOutputStream();
+    try (BinaryTraceWriter writer = new BinaryTraceWriter(trace, Thread::new)) {
+      for (int i = 0; i < events; i++) {
+        writer.write("buck", "rule", 'B', 0, 1, i, i, ImmutableMap.of("rule", "//a:" + i));
+      }
+    }
+
+    ByteArrayOutputStream converted = new ByteArrayOutputStream();
+    int maxAvailable = 0;
+    try (InputStream stream = BinaryTrace.toJson(new ByteArrayInputStream(trace.toByteArray()))) {
+      byte[] buffer = new byte[1000];
+      // Mix single byte reads and reads which end within a batch.
+      for (int b = stream.read(); b >= 0; b = stream.read()) {
+        converted.write(b);
+        maxAvailable = Math.max(maxAvailable, stream.available());
+        int read = stream.read(buffer);
+        if (read > 0) {
+          converted.write(buffer, 0, read);
+        }
+      }
+    }
+    // Only part of the trace is held in its JSON form at a time.
+    assertTrue(maxAvailable < converted.size() / 4);
+    List<Map<String, Object>> parsed =
+        ObjectMappers.readValue(
+            new String(converted.toByteArray(), StandardCharsets.UTF_8),
+            new TypeReference<List<Map<String, Object>>>() {});
+    assertEquals(events, parsed.size());
+    assertEquals(
+        ImmutableMap.of("rule", "//a:" + (events - 1)), parsed.get(events - 1).get("args"));
+  }
+
+  @Test
+  public void chromeTraceParserReadsBinaryTraces() throws InterruptedException, IOException {
+    ProjectFilesystem projectFilesystem =
+        TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    Path tracePath = Paths.get("build.btrace");
+    try (BinaryTraceWriter writer =
+        new BinaryTraceWriter(projectFilesystem.newFileOutputStream(tracePath), Thread::new)) {
+      writer.write(
+          "buck", "query", 'B', 0, 1, 10, 5, ImmutableMap.of("command_args", "deps(fb4a, 1)"));
+    }
+
+    assertEquals(
+        ImmutableMap.of(ChromeTraceParser.COMMAND, "buck query deps(fb4a, 1)"),
+        new ChromeTraceParser(projectFilesystem)
+            .parse(tracePath, ImmutableSet.of(ChromeTraceParser.COMMAND)));
+  }
+
+  @Test
+  public void detectsBinaryTracesWithoutConsumingThem() throws IOException {
+    ByteArrayOutputStream trace = new ByteArrayOutputStream();
+    new BinaryTraceWriter(trace, Thread::new).close();
+
+    InputStream binary = new BufferedInputStream(new ByteArrayInputStream(trace.toByteArray()));
+    assertTrue(BinaryTrace.isBinaryTrace(binary));
+    try (BinaryTraceReader reader = new BinaryTraceReader(binary)) {
+      assertFalse(reader.readEvent().isPresent());
+    }
+    assertFalse(
+        BinaryTrace.isBinaryTrace(
+            new BufferedInputStream(
+                new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)))));
+  }
+}
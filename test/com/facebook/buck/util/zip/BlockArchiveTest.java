@@ -0,0 +1,189 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.zip;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeThat;
+
+import com.facebook.buck.io.file.MoreFiles;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.impl.DefaultProjectFilesystemFactory;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.facebook.buck.util.environment.Platform;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class BlockArchiveTest {
+  private static final byte[] DUMMY_FILE_CONTENTS = "BUCK Block Test String!\nNihao\n".getBytes();
+
+  @Rule public TemporaryPaths tmpFolder = new TemporaryPaths();
+
+  private ExecutorService executor;
+  private ProjectFilesystem source;
+  private Path archive;
+
+  @Before
+  public void setUp() throws InterruptedException, IOException {
+    executor = Executors.newFixedThreadPool(4);
+    source = new DefaultProjectFilesystemFactory().createProjectFilesystem(tmpFolder.newFolder());
+    archive = tmpFolder.getRoot().resolve("artifact.bcka");
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void roundTripsFilesAndDirectories() throws InterruptedException, IOException {
+    // Random bytes don't compress, so they are stored as they are.
+    byte[] incompressible = new byte[BlockArchive.BLOCK_SIZE * 2 + 17];
+    new Random(0).nextBytes(incompressible);
+    byte[] compressible = new byte[BlockArchive.BLOCK_SIZE * 3];
+    Arrays.fill(compressible, (byte) 'b');
+
+    source.mkdirs(source.getPath("dir/subdir"));
+    source.mkdirs(source.getPath("emptydir"));
+    Files.write(source.resolve("dir/subdir/small.txt"), DUMMY_FILE_CONTENTS);
+    Files.write(source.resolve("dir/random.bin"), incompressible);
+    Files.write(source.resolve("dir/large.txt"), compressible);
+    Files.write(source.resolve("empty.txt"), new byte[0]);
+
+    BlockArchive.create(
+        source,
+        ImmutableList.of(
+            source.getPath("dir"),
+            source.getPath("dir/subdir"),
+            source.getPath("dir/subdir/small.txt"),
+            source.getPath("dir/random.bin"),
+            source.getPath("dir/large.txt"),
+            source.getPath("emptydir"),
+            source.getPath("empty.txt")),
+        archive,
+        Deflater.BEST_SPEED,
+        executor);
+    assertTrue(Files.size(archive) < incompressible.length + compressible.length / 10);
+
+    Path extractFolder = tmpFolder.newFolder();
+    ProjectFilesystem destination =
+        new DefaultProjectFilesystemFactory().createProjectFilesystem(extractFolder);
+    ImmutableList<Path> result;
+    try (InputStream input = Files.newInputStream(archive)) {
+      result =
+          BlockArchive.extract(input, destination, Unzip.ExistingFileMode.OVERWRITE, executor);
+    }
+
+    assertEquals(
+        ImmutableList.of(
+            destination.getPath("dir/subdir/small.txt"),
+            destination.getPath("dir/random.bin"),
+            destination.getPath("dir/large.txt"),
+            destination.getPath("empty.txt")),
+        result);
+    assertArrayEquals(
+        DUMMY_FILE_CONTENTS, Files.readAllBytes(extractFolder.resolve("dir/subdir/small.txt")));
+    assertArrayEquals(incompressible, Files.readAllBytes(extractFolder.resolve("dir/random.bin")));
+    assertArrayEquals(compressible, Files.readAllBytes(extractFolder.resolve("dir/large.txt")));
+    assertEquals(0, Files.size(extractFolder.resolve("empty.txt")));
+    assertTrue(Files.isDirectory(extractFolder.resolve("emptydir")));
+  }
+
+  @Test
+  public void restoresExecutableBitAndCleansDirectories() throws InterruptedException, IOException {
+    assumeThat(Platform.detect(), Matchers.is(Matchers.not(Platform.WINDOWS)));
+
+    source.mkdirs(source.getPath("dir"));
+    Files.write(source.resolve("dir/tool.sh"), DUMMY_FILE_CONTENTS);
+    MoreFiles.makeExecutable(source.resolve("dir/tool.sh"));
+    BlockArchive.create(
+        source,
+        ImmutableList.of(source.getPath("dir"), source.getPath("dir/tool.sh")),
+        archive,
+        Deflater.BEST_SPEED,
+        executor);
+
+    Path extractFolder = tmpFolder.newFolder();
+    ProjectFilesystem destination =
+        new DefaultProjectFilesystemFactory().createProjectFilesystem(extractFolder);
+    destination.mkdirs(destination.getPath("dir/stale"));
+    destination.writeContentsToPath("stale", destination.getPath("dir/stale.txt"));
+    destination.writeContentsToPath("unrelated", destination.getPath("unrelated.txt"));
+
+    try (InputStream input = Files.newInputStream(archive)) {
+      BlockArchive.extract(
+          input, destination, Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES, executor);
+    }
+
+    assertTrue(Files.isExecutable(extractFolder.resolve("dir/tool.sh")));
+    assertFalse(Files.exists(extractFolder.resolve("dir/stale")));
+    assertFalse(Files.exists(extractFolder.resolve("dir/stale.txt")));
+    assertTrue(Files.exists(extractFolder.resolve("unrelated.txt")));
+  }
+
+  @Test
+  public void extractingACorruptArchiveRemovesWrittenFiles()
+      throws InterruptedException, IOException {
+    StringBuilder compressible = new StringBuilder();
+    for (int i = 0; i < 10000; i++) {
+      compressible.append("line ").append(i).append('\n');
+    }
+    Files.write(source.resolve("1.bin"), DUMMY_FILE_CONTENTS);
+    Files.write(source.resolve("2.bin"), compressible.toString().getBytes(Charsets.UTF_8));
+    BlockArchive.create(
+        source,
+        ImmutableList.of(source.getPath("1.bin"), source.getPath("2.bin")),
+        archive,
+        Deflater.BEST_SPEED,
+        executor);
+    byte[] corrupt = Files.readAllBytes(archive);
+    // Flip a bit in the middle of the compressed block of the second file, which ends the archive.
+    corrupt[corrupt.length - 1000] ^= 1;
+
+    Path extractFolder = tmpFolder.newFolder();
+    try {
+      BlockArchive.extract(
+          new ByteArrayInputStream(corrupt),
+          new DefaultProjectFilesystemFactory().createProjectFilesystem(extractFolder),
+          Unzip.ExistingFileMode.OVERWRITE,
+          executor);
+      fail("Extracting a corrupt archive should fail.");
+    } catch (IOException e) {
+      // Expected.
+    }
+    assertFalse(Files.exists(extractFolder.resolve("1.bin")));
+    assertFalse(Files.exists(extractFolder.resolve("2.bin")));
+  }
+}
@@ -16,13 +16,17 @@
 
 package com.facebook.buck.util.zip;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeThat;
 
 import com.facebook.buck.io.file.MoreFiles;
 import com.facebook.buck.io.file.MorePosixFilePermissions;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.impl.DefaultProjectFilesystemFactory;
 import com.facebook.buck.testutil.ZipArchive;
 import com.facebook.buck.testutil.integration.TemporaryPaths;
@@ -30,12 +34,14 @@ import com.facebook.buck.util.environment.Platform;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
 import java.util.Set;
 import java.util.zip.ZipEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
@@ -267,4 +273,101 @@ public class UnzipTest {
     assertTrue(Files.exists(extractFolder.toAbsolutePath().resolve("foo")));
     assertTrue(Files.exists(extractFolder.toAbsolutePath().resolve("foo/bar")));
   }
+
+  @Test
+  public void testExtractZipStream() throws InterruptedException, IOException {
+    Path sourceFolder = tmpFolder.newFolder();
+    ProjectFilesystem source =
+        new DefaultProjectFilesystemFactory().createProjectFilesystem(sourceFolder);
+    source.mkdirs(source.getPath("dir/subdir"));
+    source.writeBytesToPath(DUMMY_FILE_CONTENTS, source.getPath("dir/subdir/file.txt"));
+    source.writeBytesToPath(DUMMY_FILE_CONTENTS, source.getPath("dir/tool.sh"));
+    MoreFiles.makeExecutable(source.resolve("dir/tool.sh"));
+    Zip.create(
+        source,
+        ImmutableList.of(
+            source.getPath("dir"),
+            source.getPath("dir/subdir"),
+            source.getPath("dir/subdir/file.txt"),
+            source.getPath("dir/tool.sh")),
+        zipFile);
+
+    Path extractFolder = tmpFolder.newFolder();
+    ProjectFilesystem destination =
+        new DefaultProjectFilesystemFactory().createProjectFilesystem(extractFolder);
+    destination.mkdirs(destination.getPath("dir/stale"));
+    destination.writeContentsToPath("stale", destination.getPath("dir/stale.txt"));
+    destination.writeContentsToPath("unrelated", destination.getPath("unrelated.txt"));
+
+    ImmutableList<Path> result;
+    try (InputStream input = Files.newInputStream(zipFile)) {
+      result =
+          Unzip.extractZipStream(
+              input, destination, Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
+    }
+
+    assertEquals(
+        ImmutableList.of(
+            destination.getPath("dir/subdir/file.txt"), destination.getPath("dir/tool.sh")),
+        result);
+    assertArrayEquals(
+        DUMMY_FILE_CONTENTS,
+        Files.readAllBytes(extractFolder.resolve("dir/subdir/file.txt")));
+    assertTrue(Files.isExecutable(extractFolder.resolve("dir/tool.sh")));
+    assertFalse(Files.exists(extractFolder.resolve("dir/stale")));
+    assertFalse(Files.exists(extractFolder.resolve("dir/stale.txt")));
+    assertTrue(Files.exists(extractFolder.resolve("unrelated.txt")));
+  }
+
+  @Test
+  public void testExtractZipStreamRestoresSymlinks() throws InterruptedException, IOException {
+    assumeThat(Platform.detect(), Matchers.is(Matchers.not(Platform.WINDOWS)));
+
+    try (ZipArchiveOutputStream zip = new ZipArchiveOutputStream(zipFile.toFile())) {
+      ZipArchiveEntry entry = new ZipArchiveEntry("link.txt");
+      entry.setUnixMode((int) MoreFiles.S_IFLNK);
+      String target = "target.txt";
+      entry.setSize(target.getBytes(Charsets.UTF_8).length);
+      entry.setMethod(ZipEntry.STORED);
+      zip.putArchiveEntry(entry);
+      zip.write(target.getBytes(Charsets.UTF_8));
+      zip.closeArchiveEntry();
+    }
+
+    Path extractFolder = tmpFolder.newFolder();
+    try (InputStream input = Files.newInputStream(zipFile)) {
+      Unzip.extractZipStream(
+          input,
+          new DefaultProjectFilesystemFactory().createProjectFilesystem(extractFolder),
+          Unzip.ExistingFileMode.OVERWRITE);
+    }
+    Path link = extractFolder.resolve("link.txt");
+    assertTrue(Files.isSymbolicLink(link));
+    assertThat(Files.readSymbolicLink(link).toString(), Matchers.equalTo("target.txt"));
+  }
+
+  @Test
+  public void testExtractTruncatedZipStreamRemovesWrittenFiles()
+      throws InterruptedException, IOException {
+    try (ZipArchive zipArchive = new ZipArchive(this.zipFile, true)) {
+      zipArchive.add("1.bin", DUMMY_FILE_CONTENTS);
+      zipArchive.add("2.bin", DUMMY_FILE_CONTENTS);
+    }
+    byte[] zipBytes = Files.readAllBytes(zipFile);
+    // Cut the stream off in the central directory, after both entries were read.
+    byte[] truncated = Arrays.copyOf(zipBytes, zipBytes.length - 10);
+
+    Path extractFolder = tmpFolder.newFolder();
+    try {
+      Unzip.extractZipStream(
+          new ByteArrayInputStream(truncated),
+          new DefaultProjectFilesystemFactory().createProjectFilesystem(extractFolder),
+          Unzip.ExistingFileMode.OVERWRITE);
+      fail("Extracting a truncated archive should fail.");
+    } catch (IOException e) {
+      // Expected.
+    }
+    assertFalse(Files.exists(extractFolder.resolve("1.bin")));
+    assertFalse(Files.exists(extractFolder.resolve("2.bin")));
+  }
 }
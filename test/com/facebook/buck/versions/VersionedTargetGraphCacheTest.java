@@ -35,9 +35,12 @@ import com.facebook.buck.shell.ExportFileDescription;
 import com.facebook.buck.shell.ExportFileDescriptionArg;
 import com.facebook.buck.testutil.TargetGraphFactory;
 import com.facebook.buck.timing.FakeClock;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ForkJoinPool;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -122,6 +125,87 @@ public class VersionedTargetGraphCacheTest {
     assertMismatch(secondResult, firstResult.getTargetGraphAndBuildTargets());
   }
 
+  @Test
+  public void testGraphChangeOnlyTranslatesAffectedRoots() throws Exception {
+    VersionedTargetGraphCache cache = new VersionedTargetGraphCache();
+    VersionedTargetGraphCacheResult firstResult =
+        cache.getVersionedTargetGraph(
+            BUS,
+            new DefaultTypeCoercerFactory(),
+            createTwoRootGraph(
+                ImmutableMap.of(
+                    version1, BuildTargetFactory.newInstance("//b:v1"),
+                    version2, BuildTargetFactory.newInstance("//b:v2"))),
+            ImmutableMap.of(),
+            POOL);
+    assertEmpty(firstResult);
+    assertThat(
+        firstResult.getTranslatedRoots(),
+        Matchers.contains(
+            BuildTargetFactory.newInstance("//a:root"),
+            BuildTargetFactory.newInstance("//b:root")));
+
+    // Change the alias only the second root depends on.
+    TargetGraphAndBuildTargets secondGraph =
+        createTwoRootGraph(ImmutableMap.of(version1, BuildTargetFactory.newInstance("//b:v2")));
+    VersionedTargetGraphCacheResult secondResult =
+        cache.getVersionedTargetGraph(
+            BUS, new DefaultTypeCoercerFactory(), secondGraph, ImmutableMap.of(), POOL);
+    assertMismatch(secondResult, firstResult.getTargetGraphAndBuildTargets());
+    assertThat(
+        secondResult.getReusedRoots(),
+        Matchers.contains(BuildTargetFactory.newInstance("//a:root")));
+    assertThat(
+        secondResult.getTranslatedRoots(),
+        Matchers.contains(BuildTargetFactory.newInstance("//b:root")));
+
+    // The partially reused graph matches one translated from scratch.
+    TargetGraph expected =
+        VersionedTargetGraphBuilder.transform(
+                new VersionUniverseVersionSelector(
+                    secondGraph.getTargetGraph(), ImmutableMap.of()),
+                secondGraph,
+                POOL,
+                new DefaultTypeCoercerFactory())
+            .getTargetGraph();
+    TargetGraph actual = secondResult.getTargetGraphAndBuildTargets().getTargetGraph();
+    assertThat(actual.getNodes(), Matchers.equalTo(expected.getNodes()));
+    for (TargetNode<?, ?> node : expected.getNodes()) {
+      assertThat(
+          actual.getOutgoingNodesFor(node), Matchers.equalTo(expected.getOutgoingNodesFor(node)));
+    }
+  }
+
+  private TargetGraphAndBuildTargets createTwoRootGraph(
+      ImmutableMap<Version, BuildTarget> bVersions) {
+    List<TargetNode<?, ?>> nodes = new ArrayList<>();
+    for (String basePath : ImmutableList.of("a", "b")) {
+      for (String name : ImmutableList.of("v1", "v2")) {
+        nodes.add(
+            new ExportFileBuilder(
+                    BuildTargetFactory.newInstance(String.format("//%s:%s", basePath, name)))
+                .build());
+      }
+      nodes.add(
+          new VersionRootBuilder(String.format("//%s:root", basePath))
+              .setDeps(String.format("//%s:alias", basePath))
+              .build());
+    }
+    nodes.add(
+        new VersionedAliasBuilder("//a:alias")
+            .setVersions("v1", "//a:v1", "v2", "//a:v2")
+            .build());
+    nodes.add(
+        new VersionedAliasBuilder("//b:alias")
+            .setVersions(bVersions)
+            .build());
+    return TargetGraphAndBuildTargets.of(
+        TargetGraphFactory.newInstance(nodes),
+        ImmutableSet.of(
+            BuildTargetFactory.newInstance("//a:root"),
+            BuildTargetFactory.newInstance("//b:root")));
+  }
+
   private TargetGraphAndBuildTargets createSimpleGraph(String basePath) {
     TargetNode<?, ?> root = new VersionRootBuilder(String.format("//%s:root", basePath)).build();
     TargetNode<ExportFileDescriptionArg, ExportFileDescription> v1 =
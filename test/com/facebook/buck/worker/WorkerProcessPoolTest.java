@@ -184,11 +184,52 @@ public class WorkerProcessPoolTest {
     pool.returnWorkerProcess(process2);
   }
 
+  @Test
+  public void lendsProcessesOncePerConcurrentJob() throws InterruptedException, IOException {
+    final WorkerProcessPool pool = createPool(1, 2);
+    final WorkerProcess process = pool.borrowWorkerProcess();
+    process.ensureLaunchAndHandshake();
+
+    final WorkerProcess process2 = pool.borrowWorkerProcess();
+    assertThat(process2, Matchers.sameInstance(process));
+
+    pool.returnWorkerProcess(process);
+    pool.returnWorkerProcess(process2);
+    pool.close();
+  }
+
+  @Test
+  public void destroyingProcessReleasesAllOfItsJobs() throws InterruptedException, IOException {
+    final WorkerProcessPool pool = createPool(1, 3);
+    final WorkerProcess process = pool.borrowWorkerProcess();
+    process.ensureLaunchAndHandshake();
+    final WorkerProcess process2 = pool.borrowWorkerProcess();
+
+    pool.destroyWorkerProcess(process);
+    // The job still running on the destroyed process finishes afterwards.
+    pool.returnWorkerProcess(process2);
+
+    final WorkerProcess process3 = pool.borrowWorkerProcess();
+    process3.ensureLaunchAndHandshake();
+    assertThat(process3, Matchers.not(Matchers.sameInstance(process)));
+    pool.returnWorkerProcess(process3);
+    pool.close();
+  }
+
   private static WorkerProcessPool createPool(int maxWorkers) {
+    return createPool(maxWorkers, 1);
+  }
+
+  private static WorkerProcessPool createPool(int maxWorkers, int maxJobsPerWorker) {
     return new WorkerProcessPool(maxWorkers, Hashing.sha1().hashLong(0)) {
       @Override
       protected WorkerProcess startWorkerProcess() throws IOException {
-        return new FakeWorkerProcess(ImmutableMap.of());
+        return new FakeWorkerProcess(ImmutableMap.of()) {
+          @Override
+          public int getMaxConcurrentJobs() {
+            return maxJobsPerWorker;
+          }
+        };
       }
     };
   }
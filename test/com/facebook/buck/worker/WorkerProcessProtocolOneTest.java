@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.worker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.facebook.buck.util.HumanReadableException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+
+@SuppressWarnings("resource") // Closing alters the test data.
+public class WorkerProcessProtocolOneTest {
+
+  @Rule public TemporaryPaths temporaryPaths = new TemporaryPaths();
+
+  @Test
+  public void testSendHandshakeAsksForVersionOne() throws IOException {
+    ByteArrayOutputStream jsonSentToWorkerProcess = new ByteArrayOutputStream();
+    WorkerProcessProtocolOne.CommandSender protocol =
+        new WorkerProcessProtocolOne.CommandSender(
+            jsonSentToWorkerProcess, handshakeResponse(123, "1"), newTempFile(), () -> {});
+
+    protocol.handshake(123);
+    assertThat(
+        jsonSentToWorkerProcess.toString(),
+        Matchers.containsString(
+            "[{\"id\":123,\"type\":\"handshake\",\"protocol_version\":\"1\",\"capabilities\":[]}"));
+    assertTrue(protocol.supportsConcurrentCommands());
+  }
+
+  @Test
+  public void testFallsBackToVersionZero() throws IOException {
+    WorkerProcessProtocolOne.CommandSender protocol =
+        new WorkerProcessProtocolOne.CommandSender(
+            new ByteArrayOutputStream(), handshakeResponse(123, "0"), newTempFile(), () -> {});
+
+    protocol.handshake(123);
+    assertFalse(protocol.supportsConcurrentCommands());
+  }
+
+  @Test
+  public void testReceiveHandshakeWithIncorrectProtocolVersion() throws IOException {
+    WorkerProcessProtocolOne.CommandSender protocol =
+        new WorkerProcessProtocolOne.CommandSender(
+            new ByteArrayOutputStream(), handshakeResponse(123, "2"), newTempFile(), () -> {});
+
+    try {
+      protocol.handshake(123);
+      fail("Handshake should have failed");
+    } catch (HumanReadableException e) {
+      assertThat(
+          e.getMessage(),
+          Matchers.containsString(
+              "Expected handshake response's \"protocol_version\" to be \"1\" or \"0\""));
+    }
+  }
+
+  @Test
+  public void testReceivesResponsesInAnyOrder() throws IOException {
+    WorkerProcessProtocolOne.CommandSender protocol =
+        new WorkerProcessProtocolOne.CommandSender(
+            new ByteArrayOutputStream(),
+            inputStream(
+                "[{\"id\":0,\"type\":\"handshake\",\"protocol_version\":\"1\",\"capabilities\":[]}"
+                    + ",{\"id\":2,\"type\":\"result\",\"exit_code\":0}"
+                    + ",{\"id\":1,\"type\":\"error\",\"exit_code\":1}"),
+            newTempFile(),
+            () -> {});
+
+    protocol.handshake(0);
+    assertEquals(WorkerProcessCommandResponse.of(2, 0), protocol.receiveNextCommandResponse());
+    assertEquals(WorkerProcessCommandResponse.of(1, 1), protocol.receiveNextCommandResponse());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testCannotReceiveResponsesInAnyOrderFromVersionZero() throws IOException {
+    WorkerProcessProtocolOne.CommandSender protocol =
+        new WorkerProcessProtocolOne.CommandSender(
+            new ByteArrayOutputStream(),
+            inputStream(
+                "[{\"id\":0,\"type\":\"handshake\",\"protocol_version\":\"0\",\"capabilities\":[]}"
+                    + ",{\"id\":2,\"type\":\"result\",\"exit_code\":0}"),
+            newTempFile(),
+            () -> {});
+
+    protocol.handshake(0);
+    protocol.receiveNextCommandResponse();
+  }
+
+  private InputStream handshakeResponse(int handshakeID, String protocolVersion) {
+    return inputStream(
+        String.format(
+            "[{\"id\":%d,\"type\":\"handshake\",\"protocol_version\":\"%s\",\"capabilities\":[]}",
+            handshakeID, protocolVersion));
+  }
+
+  private Path newTempFile() throws IOException {
+    return temporaryPaths.newFile();
+  }
+
+  private static ByteArrayInputStream inputStream(String string) {
+    return new ByteArrayInputStream(string.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -18,10 +18,12 @@ package com.facebook.buck.worker;
 
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeThat;
 
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.TestProjectFilesystems;
@@ -43,6 +45,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
 import org.junit.Test;
@@ -136,4 +141,39 @@ public class WorkerProcessTest {
       assertThat(e.getMessage().length(), is(greaterThan(1024 * 1024)));
     }
   }
+
+  @Test(timeout = 20 * 1000)
+  public void testRunsJobsConcurrentlyWhenWorkerSupportsIt() throws Exception {
+    assumeThat(Platform.detect(), is(not(Platform.WINDOWS)));
+    ProjectWorkspace workspace =
+        TestDataHelper.createProjectWorkspaceForScenario(
+            this, "concurrent_worker_process", temporaryPaths);
+    workspace.setUp();
+    ProjectFilesystem projectFilesystem =
+        TestProjectFilesystems.createProjectFilesystem(workspace.getDestPath());
+    Console console = new Console(Verbosity.ALL, System.out, System.err, Ansi.withoutTty());
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try (WorkerProcess workerProcess =
+        new WorkerProcess(
+            new DefaultProcessExecutor(console),
+            ProcessExecutorParams.builder()
+                .setCommand(ImmutableList.of("./script.py"))
+                .setDirectory(workspace.getDestPath())
+                .build(),
+            projectFilesystem,
+            temporaryPaths.newFolder(),
+            2)) {
+      workerProcess.ensureLaunchAndHandshake();
+      assertThat(workerProcess.getMaxConcurrentJobs(), is(2));
+
+      // The worker only replies once it received both jobs.
+      Future<WorkerJobResult> first = executor.submit(() -> workerProcess.submitAndWaitForJob("1"));
+      Future<WorkerJobResult> second =
+          executor.submit(() -> workerProcess.submitAndWaitForJob("2"));
+      assertThat(first.get().getExitCode(), is(1));
+      assertThat(second.get().getExitCode(), is(2));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 }
@@ -0,0 +1,55 @@
+#!/usr/bin/env python
+
+import json
+import sys
+
+
+def read_messages():
+    # Buck does not separate its messages, so split them at the closing braces. None of the
+    # messages sent to this script contain braces in their strings.
+    depth = 0
+    message = ''
+    while True:
+        c = sys.stdin.read(1)
+        if not c:
+            return
+        if c == '{':
+            depth += 1
+        if depth > 0:
+            message += c
+        if c == '}':
+            depth -= 1
+            if depth == 0:
+                yield json.loads(message)
+                message = ''
+
+
+def write(data):
+    sys.stdout.write(data)
+    sys.stdout.flush()
+
+
+messages = read_messages()
+handshake = next(messages)
+write('[' + json.dumps({
+    'id': handshake['id'],
+    'type': 'handshake',
+    'protocol_version': '1',
+    'capabilities': [],
+}))
+
+# Only reply once both jobs were received, replying to the last one first.
+commands = [next(messages), next(messages)]
+for command in reversed(commands):
+    with open(command['args_path']) as args:
+        exit_code = int(args.read())
+    write(',' + json.dumps({
+        'id': command['id'],
+        'type': 'result',
+        'exit_code': exit_code,
+    }))
+
+# Buck closes stdin once it is done with this worker.
+for message in messages:
+    pass
+write(']')